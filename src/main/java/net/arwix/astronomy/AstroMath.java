@@ -109,6 +109,26 @@ public abstract class AstroMath {
      * @return матрица нутации Nutation matrix
      */
     public static Matrix getNutation(double T) {
+        final double[] angles = new double[3];
+        getNutationAngles(T, angles);
+        final double dpsi = angles[0];
+        final double deps = angles[1];
+        final double eps = angles[2];
+
+        return Matrix.RotateX(-eps - deps).Multiply(Matrix.RotateZ(-dpsi))
+                .Multiply(Matrix.RotateX(+eps));
+
+        // return R_x(-eps-deps)*R_z(-dpsi)*R_x(+eps);
+    }
+
+    /**
+     * Углы нутации и средний наклон эклиптики без создания объектов
+     * Nutation angles and mean obliquity of the ecliptic
+     *
+     * @param T   Время в юлианских столетиях от эпохи J2000
+     * @param out нутация в долготе, нутация в наклоне, средний наклон эклиптики в радианах
+     */
+    public static void getNutationAngles(double T, double[] out) {
         double ls, D, F, N;
         double eps, dpsi, deps;
 
@@ -131,10 +151,9 @@ public abstract class AstroMath {
         // Mean obliquity of the ecliptic средний наклон эклиптики
         eps = 0.4090928 - 2.2696E-4 * T;
 
-        return Matrix.RotateX(-eps - deps).Multiply(Matrix.RotateZ(-dpsi))
-                .Multiply(Matrix.RotateX(+eps));
-
-        // return R_x(-eps-deps)*R_z(-dpsi)*R_x(+eps);
+        out[0] = dpsi;
+        out[1] = deps;
+        out[2] = eps;
     }
 
     public static class AzimuthCoordintates {
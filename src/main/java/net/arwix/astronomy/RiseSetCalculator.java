@@ -5,6 +5,7 @@ import net.arwix.astronomy.calendar.CalendarMath;
 import net.arwix.astronomy.calendar.SimpleDate;
 import net.arwix.astronomy.coordinates.SphericalVector;
 import net.arwix.astronomy.coordinates.VectorType;
+import net.arwix.astronomy.ephemeris.EphemerisProviders;
 import net.arwix.astronomy.math.QuadraticInterpolation;
 
 import java.util.Calendar;
@@ -119,7 +120,7 @@ public class RiseSetCalculator {
 
     public RiseSetCalculator(VSOP87Objects object) {
         if (object == null) throw new NullPointerException();
-        this.obj = object;
+        this.obj = EphemerisProviders.getCoordinates(object);
     }
 
 //    // TODO Moon sin(toRadians(+8.0 / 60.0)
@@ -1,7219 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   MARS - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX J2000
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 2000 BC < Date < 6000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class A_Mars {
-
-    static double X0(double t) // 1584 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 1.51769936383 * Math.cos(6.20403346548 + 3340.6124266998 * t);
-        X0 -= 0.19502945246;
-        X0 += 0.07070919655 * Math.cos(0.25870338558 + 6681.2248533996 * t);
-        X0 += 0.00494196914 * Math.cos(0.59669127768 + 10021.8372800994 * t);
-        X0 += 0.00040938237 * Math.cos(0.93473307419 + 13362.4497067992 * t);
-        X0 += 0.00021067199 * Math.cos(1.80435656154 + 3337.0893083508 * t);
-        X0 += 0.00021041626 * Math.cos(1.17895619474 + 3344.1355450488 * t);
-        X0 += 0.00011370375 * Math.cos(4.83265211109 + 1059.3819301892 * t);
-        X0 += 0.00013527976 * Math.cos(0.63010765169 + 529.6909650946 * t);
-        X0 += 0.00006774107 * Math.cos(3.61785048282 + 3340.5951730476 * t);
-        X0 += 0.00006774060 * Math.cos(5.64862211431 + 3340.629680352 * t);
-        X0 += 0.00008226069 * Math.cos(1.86843519535 + 2281.2304965106 * t);
-        X0 += 0.00005469046 * Math.cos(1.13324429003 + 2942.4634232916 * t);
-        X0 += 0.00004817134 * Math.cos(1.85091045536 + 3738.761430108 * t);
-        X0 += 0.00004937579 * Math.cos(4.43241440654 + 5621.8429232104 * t);
-        X0 += 0.00005276260 * Math.cos(2.33148083116 + 6151.533888305 * t);
-        X0 += 0.00003636667 * Math.cos(6.11397592106 + 796.2980068164 * t);
-        X0 += 0.00003725823 * Math.cos(1.27280182943 + 16703.062133499 * t);
-        X0 += 0.00003729746 * Math.cos(1.21398323637 + 398.1490034082 * t);
-        X0 += 0.00002368513 * Math.cos(2.96841895360 + 2544.3144198834 * t);
-        X0 += 0.00002397865 * Math.cos(0.63553674054 + 3149.1641605882 * t);
-        X0 += 0.00002274646 * Math.cos(2.35708328853 + 3532.0606928114 * t);
-        X0 += 0.00001977579 * Math.cos(2.14087826110 + 6677.7017350506 * t);
-        X0 += 0.00002229176 * Math.cos(1.69588962513 + 3340.545116397 * t);
-        X0 += 0.00002229117 * Math.cos(1.28739323821 + 3340.6797370026 * t);
-        X0 += 0.00002182206 * Math.cos(1.69655112969 + 6283.0758499914 * t);
-        X0 += 0.00002241010 * Math.cos(4.82218655311 + 8962.4553499102 * t);
-        X0 += 0.00001677693 * Math.cos(3.14442612046 + 5884.9268465832 * t);
-        X0 += 0.00001630482 * Math.cos(0.24117974845 + 4136.9104335162 * t);
-        X0 += 0.00001958162 * Math.cos(1.51914544555 + 6684.7479717486 * t);
-        X0 += 0.00001378470 * Math.cos(2.18011900021 + 1751.539531416 * t);
-        X0 += 0.00001289804 * Math.cos(4.70970778621 + 1194.4470102246 * t);
-        X0 += 0.00001468124 * Math.cos(1.87869730543 + 3870.3033917944 * t);
-        X0 += 0.00001290170 * Math.cos(0.43596325296 + 2810.9214616052 * t);
-        X0 += 0.00001572540 * Math.cos(4.84809921789 + 1589.0728952838 * t);
-        X0 += 0.00000956752 * Math.cos(5.36994227392 + 426.598190876 * t);
-        X0 += 0.00000819458 * Math.cos(5.15884167649 + 4399.994356889 * t);
-        X0 += 0.00000708712 * Math.cos(4.69562713369 + 5486.777843175 * t);
-        X0 += 0.00000719048 * Math.cos(2.91145340412 + 191.4482661116 * t);
-        X0 += 0.00000702848 * Math.cos(4.67590003722 + 2146.1654164752 * t);
-        X0 += 0.00000720121 * Math.cos(2.65539067862 + 9492.1463150048 * t);
-        X0 += 0.00000631186 * Math.cos(3.95569679737 + 6681.2075997474 * t);
-        X0 += 0.00000631186 * Math.cos(5.98646842887 + 6681.2421070518 * t);
-        X0 += 0.00000582287 * Math.cos(3.95295967777 + 3185.1920272656 * t);
-        X0 += 0.00000709131 * Math.cos(0.92869188035 + 213.299095438 * t);
-        X0 += 0.00000555568 * Math.cos(5.32014604077 + 3496.032826134 * t);
-        X0 += 0.00000492190 * Math.cos(2.17606530808 + 7079.3738568078 * t);
-        X0 += 0.00000535122 * Math.cos(3.30310120139 + 1592.5960136328 * t);
-        X0 += 0.00000417652 * Math.cos(5.30163601083 + 3341.592747768 * t);
-        X0 += 0.00000417769 * Math.cos(3.96482796919 + 3339.6321056316 * t);
-        X0 += 0.00000370752 * Math.cos(5.08127148188 + 8432.7643848156 * t);
-        X0 += 0.00000360028 * Math.cos(1.61089122901 + 20043.6745601988 * t);
-        X0 += 0.00000353036 * Math.cos(3.88678429649 + 6254.6266625236 * t);
-        X0 += 0.00000352079 * Math.cos(5.17043717929 + 12303.06777661 * t);
-        X0 += 0.00000321578 * Math.cos(1.94644283196 + 3553.9115221378 * t);
-        X0 += 0.00000346042 * Math.cos(6.16404119331 + 5088.6288397668 * t);
-        X0 += 0.00000301924 * Math.cos(0.98460899560 + 3127.3133312618 * t);
-        X0 += 0.00000287211 * Math.cos(2.07531303415 + 7.1135470008 * t);
-        X0 += 0.00000307060 * Math.cos(0.00966130243 + 1748.016413067 * t);
-        X0 += 0.00000260116 * Math.cos(1.89587348902 + 1990.745017041 * t);
-        X0 += 0.00000313875 * Math.cos(5.10651966600 + 4535.0594369244 * t);
-        X0 += 0.00000271815 * Math.cos(1.94925691995 + 6467.9257579616 * t);
-        X0 += 0.00000223359 * Math.cos(3.55354563068 + 3319.8370312074 * t);
-        X0 += 0.00000221615 * Math.cos(5.71282076784 + 3361.3878221922 * t);
-        X0 += 0.00000234058 * Math.cos(2.03750130921 + 9623.6882766912 * t);
-        X0 += 0.00000207708 * Math.cos(2.03373205181 + 6681.1575430968 * t);
-        X0 += 0.00000205217 * Math.cos(1.85790835685 + 10025.3603984484 * t);
-        X0 += 0.00000207851 * Math.cos(2.47841996435 + 10018.3141617504 * t);
-        X0 += 0.00000253068 * Math.cos(1.39828863887 + 2914.0142358238 * t);
-        X0 += 0.00000193257 * Math.cos(4.93224646907 + 2118.7638603784 * t);
-        X0 += 0.00000218718 * Math.cos(0.97547090194 + 6489.776587288 * t);
-        X0 += 0.00000190381 * Math.cos(1.28527355998 + 4690.4798363586 * t);
-        X0 += 0.00000207708 * Math.cos(1.62523566496 + 6681.2921637024 * t);
-        X0 += 0.00000178814 * Math.cos(2.54776084181 + 1221.8485663214 * t);
-        X0 += 0.00000157307 * Math.cos(0.48852895157 + 2388.8940204492 * t);
-        X0 += 0.00000177177 * Math.cos(4.27081023055 + 2957.7158944766 * t);
-        X0 += 0.00000147711 * Math.cos(2.47588653124 + 7210.9158184942 * t);
-        X0 += 0.00000164710 * Math.cos(0.57591122272 + 7477.522860216 * t);
-        X0 += 0.00000153944 * Math.cos(4.44473119432 + 639.897286314 * t);
-        X0 += 0.00000168450 * Math.cos(5.06929034077 + 3723.508958923 * t);
-        X0 += 0.00000126166 * Math.cos(2.64309008334 + 4292.3308329504 * t);
-        X0 += 0.00000161231 * Math.cos(1.53118234358 + 1349.8674096588 * t);
-        X0 += 0.00000135146 * Math.cos(0.12922395244 + 7903.073419721 * t);
-        X0 += 0.00000146849 * Math.cos(4.41614407590 + 3337.021998048 * t);
-        X0 += 0.00000146211 * Math.cos(4.84723563341 + 3344.2028553516 * t);
-        X0 += 0.00000166323 * Math.cos(3.16905368032 + 10213.285546211 * t);
-        X0 += 0.00000119425 * Math.cos(4.65545643220 + 11773.3768115154 * t);
-        X0 += 0.00000144098 * Math.cos(5.36305248386 + 2787.0430238574 * t);
-        X0 += 0.00000112328 * Math.cos(0.07498207309 + 3205.5473466644 * t);
-        X0 += 0.00000118125 * Math.cos(5.18570866097 + 4929.6853219836 * t);
-        X0 += 0.00000112305 * Math.cos(3.45701462628 + 3333.498879699 * t);
-        X0 += 0.00000106788 * Math.cos(2.91050878748 + 3475.6775067352 * t);
-        X0 += 0.00000125116 * Math.cos(3.97421380472 + 3894.1818295422 * t);
-        X0 += 0.00000120319 * Math.cos(3.40966066157 + 9225.539273283 * t);
-        X0 += 0.00000097207 * Math.cos(2.99865676561 + 951.7184062506 * t);
-        X0 += 0.00000106515 * Math.cos(5.50162815365 + 382.8965322232 * t);
-        X0 += 0.00000096090 * Math.cos(5.81819224527 + 3347.7259737006 * t);
-        X0 += 0.00000088763 * Math.cos(2.98692015057 + 12832.7587417046 * t);
-        X0 += 0.00000088424 * Math.cos(0.46788407862 + 3097.88382272579 * t);
-        X0 += 0.00000115240 * Math.cos(5.86554297015 + 155.4203994342 * t);
-        X0 += 0.00000080693 * Math.cos(2.54262499897 + 3583.3410306738 * t);
-        X0 += 0.00000085394 * Math.cos(3.68553580935 + 4933.2084403326 * t);
-        X0 += 0.00000084575 * Math.cos(0.98139044515 + 6674.1113063988 * t);
-        X0 += 0.00000073165 * Math.cos(5.03165292302 + 1052.2683831884 * t);
-        X0 += 0.00000072879 * Math.cos(4.43895846428 + 553.5694028424 * t);
-        X0 += 0.00000073967 * Math.cos(5.89004738022 + 3767.2106175758 * t);
-        X0 += 0.00000092023 * Math.cos(4.26113870399 + 9595.2390892234 * t);
-        X0 += 0.00000066160 * Math.cos(0.94815285206 + 3.523118349 * t);
-        X0 += 0.00000073608 * Math.cos(5.48570032991 + 7740.6067835888 * t);
-        X0 += 0.00000066070 * Math.cos(1.60388512429 + 1066.49547719 * t);
-        X0 += 0.00000066213 * Math.cos(2.34472269926 + 2700.7151403858 * t);
-        X0 += 0.00000069810 * Math.cos(5.73677959672 + 5092.1519581158 * t);
-        X0 += 0.00000054167 * Math.cos(4.29292954610 + 6525.8044539654 * t);
-        X0 += 0.00000066184 * Math.cos(0.04131920152 + 10021.8545337516 * t);
-        X0 += 0.00000049919 * Math.cos(5.09299800813 + 3312.163239232 * t);
-        X0 += 0.00000049213 * Math.cos(4.17306140605 + 3369.0616141676 * t);
-        X0 += 0.00000047370 * Math.cos(5.51507270323 + 15643.6802033098 * t);
-        X0 += 0.00000066184 * Math.cos(4.29373287721 + 10021.8200264472 * t);
-        X0 += 0.00000057875 * Math.cos(5.05744124530 + 6041.3275670856 * t);
-        X0 += 0.00000043269 * Math.cos(1.94632875724 + 149.5631971346 * t);
-        X0 += 0.00000053324 * Math.cos(2.50863035758 + 10419.9862835076 * t);
-        X0 += 0.00000038940 * Math.cos(5.63973862939 + 6682.2051744678 * t);
-        X0 += 0.00000043109 * Math.cos(2.71319075118 + 3325.3599555148 * t);
-        X0 += 0.00000042867 * Math.cos(0.27117433127 + 3355.8648978848 * t);
-        X0 += 0.00000048698 * Math.cos(5.09899941910 + 2274.1169495098 * t);
-        X0 += 0.00000046383 * Math.cos(1.73717073020 + 2288.3440435114 * t);
-        X0 += 0.00000036267 * Math.cos(1.94902928841 + 23384.2869868986 * t);
-        X0 += 0.00000050165 * Math.cos(2.14736989820 + 4562.4609930212 * t);
-        X0 += 0.00000041472 * Math.cos(3.60893965854 + 536.8045120954 * t);
-        X0 += 0.00000039049 * Math.cos(0.74753075600 + 522.5774180938 * t);
-        X0 += 0.00000044704 * Math.cos(4.31072201688 + 3077.528503327 * t);
-        X0 += 0.00000031936 * Math.cos(4.22847752010 + 5628.9564702112 * t);
-        X0 += 0.00000033826 * Math.cos(2.14280999100 + 242.728603974 * t);
-        X0 += 0.00000031516 * Math.cos(2.26487927217 + 5331.3574437408 * t);
-        X0 += 0.00000036134 * Math.cos(2.27592727288 + 9808.5381846614 * t);
-        X0 += 0.00000031693 * Math.cos(5.11483018936 + 2648.454825473 * t);
-        X0 += 0.00000039073 * Math.cos(4.30379109135 + 6680.2445323314 * t);
-        X0 += 0.00000029903 * Math.cos(0.50914323279 + 7373.3824546264 * t);
-        X0 += 0.00000032386 * Math.cos(5.44057780617 + 7875.6718636242 * t);
-        X0 += 0.00000038513 * Math.cos(2.35130225277 + 6894.5239488376 * t);
-        X0 += 0.00000040052 * Math.cos(4.95360412434 + 3603.6963500726 * t);
-        X0 += 0.00000027675 * Math.cos(2.38007622196 + 12964.300703391 * t);
-        X0 += 0.00000029415 * Math.cos(1.41703966406 + 5614.7293762096 * t);
-        X0 += 0.00000029767 * Math.cos(5.41991083227 + 3178.1457905676 * t);
-        X0 += 0.00000027624 * Math.cos(1.51598253003 + 8429.2412664666 * t);
-        X0 += 0.00000027780 * Math.cos(3.76684820301 + 3503.079062832 * t);
-        X0 += 0.00000031613 * Math.cos(1.92518888418 + 103.0927742186 * t);
-        X0 += 0.00000023774 * Math.cos(3.79283688871 + 3320.257107301 * t);
-        X0 += 0.00000023576 * Math.cos(5.47254185738 + 3360.96774609859 * t);
-        X0 += 0.00000024400 * Math.cos(1.62009556792 + 76.2660712756 * t);
-        X0 += 0.00000022361 * Math.cos(4.86113133643 + 15113.9892382152 * t);
-        X0 += 0.00000022690 * Math.cos(2.19469301612 + 13365.9728251482 * t);
-        X0 += 0.00000023114 * Math.cos(4.24399671317 + 1692.1656695024 * t);
-        X0 += 0.00000024893 * Math.cos(2.94802556560 + 692.1576012268 * t);
-        X0 += 0.00000021831 * Math.cos(1.96164672611 + 10021.9045904022 * t);
-        X0 += 0.00000021452 * Math.cos(3.90485002116 + 6660.4494579072 * t);
-        X0 += 0.00000020657 * Math.cos(4.09048527688 + 1581.959348283 * t);
-        X0 += 0.00000025193 * Math.cos(0.35005183307 + 3335.0895023924 * t);
-        X0 += 0.00000021831 * Math.cos(2.37014311295 + 10021.7699697966 * t);
-        X0 += 0.00000025135 * Math.cos(2.63045826824 + 3346.1353510072 * t);
-        X0 += 0.00000022753 * Math.cos(1.31299329202 + 9830.3890139878 * t);
-        X0 += 0.00000020575 * Math.cos(0.90645437334 + 6438.4962494256 * t);
-        X0 += 0.00000024954 * Math.cos(2.47676946948 + 1648.4467571974 * t);
-        X0 += 0.00000019324 * Math.cos(0.97030055777 + 3329.97576135 * t);
-        X0 += 0.00000019241 * Math.cos(2.01197452147 + 3351.2490920496 * t);
-        X0 += 0.00000023600 * Math.cos(6.05705050939 + 10713.9948813262 * t);
-        X0 += 0.00000017286 * Math.cos(0.90425997403 + 6872.6731195112 * t);
-        X0 += 0.00000019863 * Math.cos(5.26277662529 + 9381.9399937854 * t);
-        X0 += 0.00000023245 * Math.cos(2.81335780702 + 1758.6530784168 * t);
-        X0 += 0.00000018911 * Math.cos(1.70838297719 + 3863.1898447936 * t);
-        X0 += 0.00000019594 * Math.cos(1.20290770391 + 2818.035008606 * t);
-        X0 += 0.00000023014 * Math.cos(2.81461106664 + 13358.9265884502 * t);
-        X0 += 0.00000020716 * Math.cos(6.04882555598 + 6702.000248892 * t);
-        X0 += 0.00000017630 * Math.cos(0.77500497806 + 3074.005384978 * t);
-        X0 += 0.00000021283 * Math.cos(0.36889274817 + 2707.8286873866 * t);
-        X0 += 0.00000016342 * Math.cos(4.60982335717 + 6298.3283211764 * t);
-        X0 += 0.00000022491 * Math.cos(3.05082771617 + 8031.0922630584 * t);
-        X0 += 0.00000016318 * Math.cos(2.90860348903 + 10551.528245194 * t);
-        X0 += 0.00000017705 * Math.cos(0.90939692872 + 10818.1352869158 * t);
-        X0 += 0.00000016242 * Math.cos(2.21265902746 + 3607.2194684216 * t);
-        X0 += 0.00000016533 * Math.cos(2.14796846234 + 6158.6474353058 * t);
-        X0 += 0.00000019622 * Math.cos(3.51635800323 + 853.196381752 * t);
-        X0 += 0.00000019312 * Math.cos(5.67131104636 + 6836.6452528338 * t);
-        X0 += 0.00000014994 * Math.cos(1.03985219202 + 6531.661656265 * t);
-        X0 += 0.00000013970 * Math.cos(2.37214915393 + 419.4846438752 * t);
-        X0 += 0.00000017187 * Math.cos(5.02091584362 + 11243.6858464208 * t);
-        X0 += 0.00000013658 * Math.cos(0.95367846073 + 7064.1213856228 * t);
-        X0 += 0.00000013547 * Math.cos(5.18592691748 + 6684.8152820514 * t);
-        X0 += 0.00000015670 * Math.cos(4.46631838197 + 3333.5661900018 * t);
-        X0 += 0.00000016212 * Math.cos(0.84608813575 + 5729.506447149 * t);
-        X0 += 0.00000016254 * Math.cos(5.63862628078 + 6144.4203413042 * t);
-        X0 += 0.00000016776 * Math.cos(3.21915143967 + 4032.7700279266 * t);
-        X0 += 0.00000013925 * Math.cos(4.61081158788 + 12935.8515159232 * t);
-        X0 += 0.00000016781 * Math.cos(2.44831081494 + 3973.396166013 * t);
-        X0 += 0.00000012720 * Math.cos(2.28483212376 + 3336.7310913418 * t);
-        X0 += 0.00000012703 * Math.cos(0.69084968319 + 3344.4937620578 * t);
-        X0 += 0.00000015246 * Math.cos(5.27637617538 + 5459.3762870782 * t);
-        X0 += 0.00000014286 * Math.cos(0.57434628738 + 10404.7338123226 * t);
-        X0 += 0.00000013779 * Math.cos(5.24898678188 + 433.7117378768 * t);
-        X0 += 0.00000013737 * Math.cos(5.70954873985 + 6127.6554505572 * t);
-        X0 += 0.00000012994 * Math.cos(3.50514987766 + 8827.3902698748 * t);
-        X0 += 0.00000012310 * Math.cos(3.32813422481 + 2487.4160449478 * t);
-        X0 += 0.00000012133 * Math.cos(4.87509657472 + 3980.5097130138 * t);
-        X0 += 0.00000015437 * Math.cos(5.37888245444 + 74.7815985673 * t);
-        X0 += 0.00000012110 * Math.cos(4.63788633296 + 3281.2385647862 * t);
-        X0 += 0.00000013767 * Math.cos(4.75090697315 + 6677.6344247478 * t);
-        X0 += 0.00000011758 * Math.cos(4.61782311507 + 3399.9862886134 * t);
-        X0 += 0.00000013443 * Math.cos(1.58243707468 + 1596.1864422846 * t);
-        X0 += 0.00000011916 * Math.cos(5.44422183383 + 1744.4259844152 * t);
-        X0 += 0.00000013640 * Math.cos(5.59411674318 + 3415.3940252671 * t);
-        X0 += 0.00000012925 * Math.cos(4.67854321339 + 7632.9432596502 * t);
-        X0 += 0.00000013026 * Math.cos(3.93047583551 + 11769.8536931664 * t);
-        X0 += 0.00000011412 * Math.cos(3.55488173063 + 11371.7046897582 * t);
-        X0 += 0.00000011148 * Math.cos(5.52272711776 + 8270.2977486834 * t);
-        X0 += 0.00000011153 * Math.cos(3.25807789781 + 6816.289933435 * t);
-        X0 += 0.00000011351 * Math.cos(4.98057415035 + 4989.0591838972 * t);
-        X0 += 0.00000012966 * Math.cos(4.66632646085 + 8969.568896911 * t);
-        X0 += 0.00000010902 * Math.cos(2.90900176456 + 110.2063212194 * t);
-        X0 += 0.00000013281 * Math.cos(3.70325148510 + 3265.8308281325 * t);
-        X0 += 0.00000013932 * Math.cos(0.43513047926 + 6546.1597733642 * t);
-        X0 += 0.00000013694 * Math.cos(4.65145546794 + 3347.6586633978 * t);
-        X0 += 0.00000010824 * Math.cos(0.88978834814 + 3316.733988952 * t);
-        X0 += 0.00000010722 * Math.cos(2.08650180598 + 3364.4908644476 * t);
-        X0 += 0.00000013330 * Math.cos(1.73633967849 + 8955.3418029094 * t);
-        X0 += 0.00000010768 * Math.cos(3.32549049401 + 16173.3711684044 * t);
-        X0 += 0.00000013163 * Math.cos(6.21762554655 + 6688.3384004004 * t);
-        X0 += 0.00000011418 * Math.cos(0.88286540120 + 3237.5196524812 * t);
-        X0 += 0.00000012130 * Math.cos(2.00651433041 + 3443.7052009184 * t);
-        X0 += 0.00000009287 * Math.cos(6.03988322239 + 3304.5845600224 * t);
-        X0 += 0.00000009160 * Math.cos(3.21863721466 + 3376.6402933772 * t);
-        X0 += 0.00000008926 * Math.cos(4.01851361248 + 8273.8208670324 * t);
-        X0 += 0.00000009314 * Math.cos(3.91047150173 + 14584.2982731206 * t);
-        X0 += 0.00000012215 * Math.cos(1.30873077067 + 10014.7237330986 * t);
-        X0 += 0.00000011535 * Math.cos(3.38250705677 + 3024.2205570432 * t);
-        X0 += 0.00000008906 * Math.cos(0.93197483563 + 3341.0325027934 * t);
-        X0 += 0.00000008906 * Math.cos(2.04371438516 + 3340.19235060619 * t);
-        X0 += 0.00000009379 * Math.cos(0.70747070827 + 632.7837393132 * t);
-        X0 += 0.00000010563 * Math.cos(4.76088157461 + 10973.55568635 * t);
-        X0 += 0.00000009728 * Math.cos(2.26828152965 + 135.0650800354 * t);
-        X0 += 0.00000008125 * Math.cos(0.08684877067 + 5828.0284716476 * t);
-        X0 += 0.00000007830 * Math.cos(3.37196781134 + 162.4666361322 * t);
-        X0 += 0.00000010475 * Math.cos(5.87139389943 + 3657.0042963564 * t);
-        X0 += 0.00000008273 * Math.cos(1.36018120251 + 6604.958782124 * t);
-        X0 += 0.00000010423 * Math.cos(2.32096503578 + 12168.0026965746 * t);
-        X0 += 0.00000007365 * Math.cos(0.74165927300 + 3760.097070575 * t);
-        X0 += 0.00000007447 * Math.cos(4.28662713398 + 1861.7458526354 * t);
-        X0 += 0.00000007300 * Math.cos(0.37690059591 + 13362.4669604514 * t);
-        X0 += 0.00000007546 * Math.cos(4.17104317176 + 3134.4268782626 * t);
-        X0 += 0.00000009008 * Math.cos(4.88604280960 + 6784.3176276182 * t);
-        X0 += 0.00000007320 * Math.cos(4.63241620258 + 13362.432453147 * t);
-        X0 += 0.00000006861 * Math.cos(3.80050446208 + 3169.9395560806 * t);
-        X0 += 0.00000008388 * Math.cos(3.35902341878 + 12566.1516999828 * t);
-        X0 += 0.00000008149 * Math.cos(2.72974838905 + 2921.1277828246 * t);
-        X0 += 0.00000007236 * Math.cos(5.08483662864 + 3546.797975137 * t);
-        X0 += 0.00000008579 * Math.cos(5.84551720825 + 5099.2655051166 * t);
-        X0 += 0.00000007567 * Math.cos(3.44029907335 + 3209.0704650134 * t);
-        X0 += 0.00000007609 * Math.cos(5.08371147556 + 3304.0070613956 * t);
-        X0 += 0.00000006467 * Math.cos(0.02249536614 + 10184.3039162316 * t);
-        X0 += 0.00000007516 * Math.cos(2.88089303559 + 6923.9534573736 * t);
-        X0 += 0.00000006807 * Math.cos(0.13521095675 + 7234.794256242 * t);
-        X0 += 0.00000006446 * Math.cos(5.78384184406 + 3341.0423098265 * t);
-        X0 += 0.00000006446 * Math.cos(3.48151772817 + 3340.1825435731 * t);
-        X0 += 0.00000006514 * Math.cos(2.78645432045 + 1118.7557921028 * t);
-        X0 += 0.00000006453 * Math.cos(5.46308741155 + 3511.285297319 * t);
-        X0 += 0.00000007475 * Math.cos(4.17838652821 + 3377.217792004 * t);
-        X0 += 0.00000006646 * Math.cos(1.41708264287 + 1375.7737998458 * t);
-        X0 += 0.00000006439 * Math.cos(2.33641979571 + 1478.8665740644 * t);
-        X0 += 0.00000006409 * Math.cos(6.18677106785 + 10575.4066829418 * t);
-        X0 += 0.00000007656 * Math.cos(5.81604841460 + 11081.2192102886 * t);
-        X0 += 0.00000006250 * Math.cos(2.84309908311 + 956.2891559706 * t);
-        X0 += 0.00000006039 * Math.cos(0.72624360734 + 640.8776073822 * t);
-        X0 += 0.00000006850 * Math.cos(5.82614287106 + 3472.1543883862 * t);
-        X0 += 0.00000006433 * Math.cos(5.96490221567 + 1162.4747044078 * t);
-        X0 += 0.00000005556 * Math.cos(4.54847111649 + 949.1756089698 * t);
-        X0 += 0.00000005974 * Math.cos(2.84025495512 + 13760.5987102074 * t);
-        X0 += 0.00000006037 * Math.cos(5.85268725215 + 18984.2926300096 * t);
-        X0 += 0.00000006266 * Math.cos(0.66358217014 + 220.4126424388 * t);
-        X0 += 0.00000005383 * Math.cos(3.18331360539 + 1228.9621133222 * t);
-        X0 += 0.00000006832 * Math.cos(3.87277522484 + 6606.4432548323 * t);
-        X0 += 0.00000005381 * Math.cos(1.74289410001 + 2766.267628365 * t);
-        X0 += 0.00000006944 * Math.cos(5.43820006019 + 8329.671610597 * t);
-        X0 += 0.00000005618 * Math.cos(2.04973538018 + 2699.7348193176 * t);
-        X0 += 0.00000005240 * Math.cos(4.43599515973 + 224.3447957019 * t);
-        X0 += 0.00000005178 * Math.cos(3.38284373136 + 3274.1250177854 * t);
-        X0 += 0.00000005132 * Math.cos(1.40127317485 + 3914.9572250346 * t);
-        X0 += 0.00000005655 * Math.cos(4.63277610967 + 9866.4168806652 * t);
-        X0 += 0.00000005030 * Math.cos(5.87356666210 + 3407.0998356142 * t);
-        X0 += 0.00000006294 * Math.cos(4.27899813330 + 2221.856634597 * t);
-        X0 += 0.00000006669 * Math.cos(5.34688319263 + 38.1330356378 * t);
-        X0 += 0.00000004800 * Math.cos(1.93538187506 + 4407.1079038898 * t);
-        X0 += 0.00000005289 * Math.cos(0.07864350876 + 13916.0191096416 * t);
-        X0 += 0.00000006432 * Math.cos(4.86365370127 + 3296.8935143948 * t);
-        X0 += 0.00000006214 * Math.cos(5.76944976140 + 8439.8779318164 * t);
-        X0 += 0.00000006362 * Math.cos(4.39850678391 + 3384.3313390048 * t);
-        X0 += 0.00000006495 * Math.cos(0.01977871702 + 7107.8230442756 * t);
-        X0 += 0.00000004782 * Math.cos(0.76221170409 + 6261.7402095244 * t);
-        X0 += 0.00000006263 * Math.cos(5.31414297159 + 1964.838626854 * t);
-        X0 += 0.00000005038 * Math.cos(4.00806214098 + 6247.5131155228 * t);
-        X0 += 0.00000004557 * Math.cos(1.53702348618 + 2807.3983432562 * t);
-        X0 += 0.00000004586 * Math.cos(4.50717342127 + 6709.6740408674 * t);
-        X0 += 0.00000004868 * Math.cos(5.44478627062 + 4392.8808098882 * t);
-        X0 += 0.00000006229 * Math.cos(4.40062999767 + 26087.9031415742 * t);
-        X0 += 0.00000004383 * Math.cos(3.06060537188 + 6665.9723822146 * t);
-        X0 += 0.00000004389 * Math.cos(2.60342985448 + 13149.1506113612 * t);
-        X0 += 0.00000005865 * Math.cos(3.94745834552 + 206.1855484372 * t);
-        X0 += 0.00000004835 * Math.cos(5.07151708141 + 14314.1681130498 * t);
-        X0 += 0.00000005778 * Math.cos(3.03661567763 + 2178.137722292 * t);
-        X0 += 0.00000004352 * Math.cos(2.71002586366 + 10235.1363755374 * t);
-        X0 += 0.00000004627 * Math.cos(3.66505491850 + 2803.8079146044 * t);
-        X0 += 0.00000004372 * Math.cos(6.12468678269 + 9168.6408983474 * t);
-        X0 += 0.00000004137 * Math.cos(1.74921053942 + 574.3447983348 * t);
-        X0 += 0.00000004316 * Math.cos(4.84679479800 + 3877.4169387952 * t);
-        X0 += 0.00000004107 * Math.cos(4.64137843892 + 10020.8569590312 * t);
-        X0 += 0.00000003822 * Math.cos(2.21626693517 + 3490.1756238344 * t);
-        X0 += 0.00000004095 * Math.cos(5.97738996422 + 10022.8176011676 * t);
-        X0 += 0.00000003691 * Math.cos(0.07794330600 + 6571.0185321802 * t);
-        X0 += 0.00000004105 * Math.cos(0.62939165404 + 263.0839233728 * t);
-        X0 += 0.00000004701 * Math.cos(4.02327027005 + 2111.6503133776 * t);
-        X0 += 0.00000003544 * Math.cos(1.42006590232 + 13517.8701062334 * t);
-        X0 += 0.00000003496 * Math.cos(5.77175707487 + 11216.284290324 * t);
-        X0 += 0.00000003591 * Math.cos(1.55483371434 + 3873.8265101434 * t);
-        X0 += 0.00000004567 * Math.cos(5.47345981316 + 13524.9163429314 * t);
-        X0 += 0.00000003954 * Math.cos(5.40431118866 + 6652.7756659318 * t);
-        X0 += 0.00000004049 * Math.cos(1.12676329347 + 3981.490034082 * t);
-        X0 += 0.00000003269 * Math.cos(2.47578227627 + 6040.3472460174 * t);
-        X0 += 0.00000003781 * Math.cos(1.51484025806 + 2906.900688823 * t);
-        X0 += 0.00000003260 * Math.cos(2.06519414445 + 8425.6508378148 * t);
-        X0 += 0.00000003293 * Math.cos(1.70537885026 + 9779.1086761254 * t);
-        X0 += 0.00000003767 * Math.cos(2.28715050291 + 26724.8994135984 * t);
-        X0 += 0.00000003390 * Math.cos(5.15091511991 + 18454.601664915 * t);
-        X0 += 0.00000003325 * Math.cos(0.39339640639 + 6843.6914895318 * t);
-        X0 += 0.00000003962 * Math.cos(1.83390636841 + 6048.4411140864 * t);
-        X0 += 0.00000003154 * Math.cos(0.64171873873 + 5202.3582793352 * t);
-        X0 += 0.00000004019 * Math.cos(0.60853100264 + 6696.4773245846 * t);
-        X0 += 0.00000003926 * Math.cos(1.75260892669 + 266.6070417218 * t);
-        X0 += 0.00000003266 * Math.cos(3.23784244279 + 13936.794505134 * t);
-        X0 += 0.00000003115 * Math.cos(1.54066694261 + 5305.4510535538 * t);
-        X0 += 0.00000003268 * Math.cos(2.71865882379 + 16304.9131300908 * t);
-        X0 += 0.00000003904 * Math.cos(3.77158991980 + 2384.3232707292 * t);
-        X0 += 0.00000003234 * Math.cos(3.23642327177 + 5518.7501489918 * t);
-        X0 += 0.00000003311 * Math.cos(2.59909525803 + 8671.9698704406 * t);
-        X0 += 0.00000002846 * Math.cos(3.36189891871 + 1332.0548875408 * t);
-        X0 += 0.00000003766 * Math.cos(5.98631611244 + 14712.317116458 * t);
-        X0 += 0.00000002950 * Math.cos(5.25308946484 + 6944.3087767724 * t);
-        X0 += 0.00000002717 * Math.cos(5.76322783552 + 6518.7582172674 * t);
-        X0 += 0.00000002645 * Math.cos(5.46777283627 + 5989.0672521728 * t);
-        X0 += 0.00000002740 * Math.cos(0.07808443244 + 7910.1869667218 * t);
-        X0 += 0.00000002707 * Math.cos(1.80768212748 + 16858.4825329332 * t);
-        X0 += 0.00000003230 * Math.cos(4.33139765115 + 647.0108333148 * t);
-        X0 += 0.00000002528 * Math.cos(1.65347317169 + 13171.0014406876 * t);
-        X0 += 0.00000002483 * Math.cos(3.87260065092 + 3313.210870603 * t);
-        X0 += 0.00000002477 * Math.cos(4.75666685518 + 5732.0492444298 * t);
-        X0 += 0.00000003349 * Math.cos(0.87562878675 + 10177.2576795336 * t);
-        X0 += 0.00000002456 * Math.cos(5.39283487914 + 3368.0139827966 * t);
-        X0 += 0.00000002623 * Math.cos(3.15434704817 + 16699.53901514999 * t);
-        X0 += 0.00000003009 * Math.cos(3.37695224152 + 2008.557539159 * t);
-        X0 += 0.00000002420 * Math.cos(1.77947870484 + 3561.0250691386 * t);
-        X0 += 0.00000002416 * Math.cos(2.30120840231 + 13362.517017102 * t);
-        X0 += 0.00000002437 * Math.cos(0.09917053128 + 5724.935697429 * t);
-        X0 += 0.00000002532 * Math.cos(4.86333607443 + 6475.0393049624 * t);
-        X0 += 0.00000003283 * Math.cos(3.57306497337 + 17277.4069318338 * t);
-        X0 += 0.00000002305 * Math.cos(4.09655242470 + 17924.9106998204 * t);
-        X0 += 0.00000002334 * Math.cos(6.00094674252 + 9485.032768004 * t);
-        X0 += 0.00000002658 * Math.cos(4.90685253882 + 3191.0492295652 * t);
-        X0 += 0.00000002433 * Math.cos(3.97617962527 + 3171.0322435668 * t);
-        X0 += 0.00000002399 * Math.cos(2.63420596512 + 15508.6151232744 * t);
-        X0 += 0.00000002274 * Math.cos(2.96629550939 + 6686.747777707 * t);
-        X0 += 0.00000002448 * Math.cos(4.59080697271 + 6418.1409300268 * t);
-        X0 += 0.00000002247 * Math.cos(2.22209606814 + 3343.3639373108 * t);
-        X0 += 0.00000002247 * Math.cos(0.76007819691 + 3337.8609160888 * t);
-        X0 += 0.00000002300 * Math.cos(1.05457137869 + 3120.199784261 * t);
-        X0 += 0.00000002167 * Math.cos(1.68871638105 + 2125.8774073792 * t);
-        X0 += 0.00000002861 * Math.cos(1.98905363521 + 3342.0968994081 * t);
-        X0 += 0.00000002836 * Math.cos(0.98608001394 + 3339.1279539915 * t);
-        X0 += 0.00000002948 * Math.cos(1.15362511196 + 6414.6178116778 * t);
-        X0 += 0.00000002582 * Math.cos(2.53488965696 + 16706.585251848 * t);
-        X0 += 0.00000002490 * Math.cos(5.13908908718 + 12722.5524204852 * t);
-        X0 += 0.00000002156 * Math.cos(5.25952376812 + 1795.258443721 * t);
-        X0 += 0.00000002071 * Math.cos(2.95218926429 + 10596.1820784342 * t);
-        X0 += 0.00000002194 * Math.cos(5.25157497709 + 3510.1926098328 * t);
-        X0 += 0.00000002210 * Math.cos(0.98734172820 + 533.2140834436 * t);
-        X0 += 0.00000002884 * Math.cos(6.25268747056 + 661.232926781 * t);
-        X0 += 0.00000002662 * Math.cos(3.54868444733 + 846.0828347512 * t);
-        X0 += 0.00000002352 * Math.cos(0.68899979183 + 6675.7019290922 * t);
-        X0 += 0.00000002171 * Math.cos(2.82652953748 + 7314.0085927128 * t);
-        X0 += 0.00000002531 * Math.cos(3.98315571751 + 15110.4661198662 * t);
-        X0 += 0.00000001989 * Math.cos(1.24937409137 + 14158.7477136156 * t);
-        X0 += 0.00000002741 * Math.cos(1.36741656084 + 9872.2740829648 * t);
-        X0 += 0.00000002051 * Math.cos(5.80635565702 + 1214.7350193206 * t);
-        X0 += 0.00000001980 * Math.cos(3.18993306283 + 16460.33352952499 * t);
-        X0 += 0.00000002057 * Math.cos(1.55396572210 + 1545.3539829788 * t);
-        X0 += 0.00000002016 * Math.cos(5.80333116821 + 6701.5801727984 * t);
-        X0 += 0.00000001963 * Math.cos(0.97426402220 + 8542.970706035 * t);
-        X0 += 0.00000002202 * Math.cos(5.06011306718 + 20.7753954924 * t);
-        X0 += 0.00000001921 * Math.cos(2.25819702736 + 2675.8563815698 * t);
-        X0 += 0.00000002221 * Math.cos(4.13094100375 + 6660.8695340008 * t);
-        X0 += 0.00000002152 * Math.cos(1.93255133621 + 14.2270940016 * t);
-        X0 += 0.00000002185 * Math.cos(0.10437662983 + 10042.6126755918 * t);
-        X0 += 0.00000001963 * Math.cos(4.86879808564 + 6456.8800576977 * t);
-        X0 += 0.00000001894 * Math.cos(1.54747808511 + 792.7748884674 * t);
-        X0 += 0.00000001887 * Math.cos(5.72755288130 + 7799.9806455024 * t);
-        X0 += 0.00000002355 * Math.cos(2.20727531576 + 6460.8122109608 * t);
-        X0 += 0.00000001918 * Math.cos(2.84810154019 + 2945.9865416406 * t);
-        X0 += 0.00000001856 * Math.cos(1.97055567397 + 3416.8784979754 * t);
-        X0 += 0.00000001999 * Math.cos(3.78408023322 + 3230.4061054804 * t);
-        X0 += 0.00000001844 * Math.cos(4.95411775516 + 16276.463942623 * t);
-        X0 += 0.00000002273 * Math.cos(4.24795887217 + 10001.061884607 * t);
-        X0 += 0.00000001884 * Math.cos(0.43882284635 + 13553.8979729108 * t);
-        X0 += 0.00000002215 * Math.cos(2.48685102846 + 9499.2598620056 * t);
-        X0 += 0.00000001827 * Math.cos(4.41387331264 + 2751.5475996916 * t);
-        X0 += 0.00000001805 * Math.cos(2.35009306355 + 6691.8615187494 * t);
-        X0 += 0.00000001827 * Math.cos(2.13792483074 + 12295.9542296092 * t);
-        X0 += 0.00000002416 * Math.cos(2.70970478916 + 13362.3823964964 * t);
-        X0 += 0.00000001779 * Math.cos(0.67914472161 + 323.5054166574 * t);
-        X0 += 0.00000002281 * Math.cos(3.85790470815 + 6643.0918177618 * t);
-        X0 += 0.00000001748 * Math.cos(4.57086822580 + 5032.7780962022 * t);
-        X0 += 0.00000001981 * Math.cos(5.03237475958 + 12310.1813236108 * t);
-        X0 += 0.00000002102 * Math.cos(3.23137605134 + 13745.3462390224 * t);
-        X0 += 0.00000002109 * Math.cos(2.11504554973 + 7203.8022714934 * t);
-        X0 += 0.00000001951 * Math.cos(1.10549385911 + 799.8211251654 * t);
-        X0 += 0.00000001709 * Math.cos(1.31732873591 + 2391.43681773 * t);
-        X0 += 0.00000001700 * Math.cos(5.65890453825 + 1435.1476617594 * t);
-        X0 += 0.00000001672 * Math.cos(2.55075771165 + 6947.8318951214 * t);
-        X0 += 0.00000002150 * Math.cos(0.44492585631 + 17256.6315363414 * t);
-        X0 += 0.00000001651 * Math.cos(5.91049368296 + 6756.0064519669 * t);
-        X0 += 0.00000001660 * Math.cos(4.94561267936 + 9638.9407478762 * t);
-        X0 += 0.00000002136 * Math.cos(0.46897595624 + 28.4491874678 * t);
-        X0 += 0.00000001565 * Math.cos(5.31860104643 + 742.9900605326 * t);
-        X0 += 0.00000001663 * Math.cos(3.83391966792 + 2277.7073781616 * t);
-        X0 += 0.00000001531 * Math.cos(0.78845566080 + 4005.3684718298 * t);
-        X0 += 0.00000001548 * Math.cos(1.53436911444 + 6578.132079181 * t);
-        X0 += 0.00000002066 * Math.cos(2.70339714714 + 13119.72110282519 * t);
-        X0 += 0.00000001866 * Math.cos(5.59846790440 + 1039.0266107904 * t);
-        X0 += 0.00000001502 * Math.cos(3.79341486186 + 316.3918696566 * t);
-        X0 += 0.00000001555 * Math.cos(0.27389127072 + 10028.9508271002 * t);
-        X0 += 0.00000001553 * Math.cos(3.89950445433 + 4193.8088084518 * t);
-        X0 += 0.00000001870 * Math.cos(0.58471003638 + 3113.1362939108 * t);
-        X0 += 0.00000001462 * Math.cos(5.69888481518 + 12995.2253778368 * t);
-        X0 += 0.00000001459 * Math.cos(5.52526727854 + 2679.3794999188 * t);
-        X0 += 0.00000001547 * Math.cos(1.64100920813 + 13355.3361597984 * t);
-        X0 += 0.00000001463 * Math.cos(0.27191881986 + 3318.7615973734 * t);
-        X0 += 0.00000001463 * Math.cos(2.71025544519 + 3362.4632560262 * t);
-        X0 += 0.00000001526 * Math.cos(0.39781988920 + 664.75604513 * t);
-        X0 += 0.00000001482 * Math.cos(5.77895037207 + 2604.735913168 * t);
-        X0 += 0.00000001867 * Math.cos(3.32733017397 + 13892.1406718938 * t);
-        X0 += 0.00000001444 * Math.cos(5.09058625219 + 10018.2468514476 * t);
-        X0 += 0.00000001596 * Math.cos(4.21362500614 + 3.9321532631 * t);
-        X0 += 0.00000001862 * Math.cos(1.31686189323 + 6670.5881880498 * t);
-        X0 += 0.00000001428 * Math.cos(6.05145860944 + 9468.267877257 * t);
-        X0 += 0.00000001440 * Math.cos(3.90175279638 + 2641.3412784722 * t);
-        X0 += 0.00000001647 * Math.cos(1.18630860116 + 9070.1188738488 * t);
-        X0 += 0.00000001515 * Math.cos(4.40841215958 + 4922.5717749828 * t);
-        X0 += 0.00000001468 * Math.cos(2.48598406210 + 2693.601593385 * t);
-        X0 += 0.00000001434 * Math.cos(5.73698962451 + 3283.7140517642 * t);
-        X0 += 0.00000001552 * Math.cos(0.75522820685 + 9886.772200064 * t);
-        X0 += 0.00000001430 * Math.cos(5.52560820233 + 10025.4277087512 * t);
-        X0 += 0.00000001604 * Math.cos(3.48106279055 + 699.2711482276 * t);
-        X0 += 0.00000001403 * Math.cos(3.52792942238 + 3397.5108016354 * t);
-        X0 += 0.00000001404 * Math.cos(3.59395455131 + 19800.9459562248 * t);
-        X0 += 0.00000001700 * Math.cos(2.39699907474 + 3568.0885594888 * t);
-        X0 += 0.00000001599 * Math.cos(5.02451840238 + 3212.5935833624 * t);
-        X0 += 0.00000001492 * Math.cos(3.59400579441 + 6155.057006654 * t);
-        X0 += 0.00000001556 * Math.cos(3.38483926358 + 7895.9598727202 * t);
-        X0 += 0.00000001469 * Math.cos(2.62524582215 + 1015.6630178842 * t);
-        X0 += 0.00000001329 * Math.cos(3.19680445505 + 3347.2960905739 * t);
-        X0 += 0.00000001329 * Math.cos(6.06855511718 + 3333.9287628257 * t);
-        X0 += 0.00000001503 * Math.cos(0.26778913449 + 3378.7454623376 * t);
-        X0 += 0.00000001400 * Math.cos(3.17228930635 + 589.0648270082 * t);
-        X0 += 0.00000001522 * Math.cos(4.24247358440 + 3468.6312700372 * t);
-        X0 += 0.00000001286 * Math.cos(1.87463796011 + 3152.68727893721 * t);
-        X0 += 0.00000001273 * Math.cos(5.67037587711 + 5625.3660415594 * t);
-        X0 += 0.00000001424 * Math.cos(1.87964420034 + 17654.7805397496 * t);
-        X0 += 0.00000001600 * Math.cos(1.40717280482 + 1905.4647649404 * t);
-        X0 += 0.00000001563 * Math.cos(4.74033234784 + 6674.1786167016 * t);
-        X0 += 0.00000001455 * Math.cos(5.62088037785 + 8799.988713778 * t);
-        X0 += 0.00000001323 * Math.cos(0.16177637471 + 1190.9238918756 * t);
-        X0 += 0.00000001259 * Math.cos(3.26535416990 + 3742.284548457 * t);
-        X0 += 0.00000001344 * Math.cos(5.40745111036 + 4672.6673142406 * t);
-        X0 += 0.00000001561 * Math.cos(5.17810613909 + 3450.8187479192 * t);
-        X0 += 0.00000001683 * Math.cos(1.97688854890 + 8646.0634802536 * t);
-        X0 += 0.00000001272 * Math.cos(6.25718697284 + 6997.6167230562 * t);
-        X0 += 0.00000001293 * Math.cos(5.24149879148 + 10124.930054318 * t);
-        X0 += 0.00000001223 * Math.cos(5.74782096857 + 11670.2840372968 * t);
-        X0 += 0.00000001193 * Math.cos(1.03222295834 + 6685.1061887576 * t);
-        X0 += 0.00000001175 * Math.cos(3.46873404944 + 4076.4889402316 * t);
-        X0 += 0.00000001326 * Math.cos(5.55836614171 + 5835.1420186484 * t);
-        X0 += 0.00000001344 * Math.cos(3.54114655197 + 59.3738619136 * t);
-        X0 += 0.00000001120 * Math.cos(6.09785937216 + 15.252471185 * t);
-        X0 += 0.00000001205 * Math.cos(4.89787234183 + 6688.2710900976 * t);
-        X0 += 0.00000001102 * Math.cos(3.98443103901 + 6364.832983743 * t);
-        X0 += 0.00000001171 * Math.cos(5.20713779345 + 2771.7905526724 * t);
-        X0 += 0.00000001128 * Math.cos(4.98003069870 + 6621.850991486 * t);
-        X0 += 0.00000001111 * Math.cos(5.02485508851 + 19402.7969528166 * t);
-        X0 += 0.00000001312 * Math.cos(5.17135511580 + 3311.18291816379 * t);
-        X0 += 0.00000001312 * Math.cos(4.09400445643 + 3370.0419352358 * t);
-        X0 += 0.00000001233 * Math.cos(3.49018510996 + 66.4874089144 * t);
-        X0 += 0.00000001398 * Math.cos(4.37138512888 + 9588.1255422226 * t);
-        X0 += 0.00000001101 * Math.cos(5.78990851346 + 3774.3241645766 * t);
-        X0 += 0.00000001166 * Math.cos(3.86709010828 + 4885.9664096786 * t);
-        X0 += 0.00000001229 * Math.cos(2.53764879683 + 3145.6410422392 * t);
-        X0 += 0.00000001335 * Math.cos(5.02147392519 + 4459.3682188026 * t);
-        X0 += 0.00000001071 * Math.cos(3.00909064842 + 7255.5696517344 * t);
-        X0 += 0.00000001183 * Math.cos(3.15461838319 + 17395.2197347258 * t);
-        X0 += 0.00000001266 * Math.cos(5.61560028687 + 6887.4104018368 * t);
-        X0 += 0.00000001072 * Math.cos(3.28943407731 + 6148.010769956 * t);
-        X0 += 0.00000001066 * Math.cos(5.94379242263 + 1197.9701285736 * t);
-        X0 += 0.00000001062 * Math.cos(1.63761668363 + 131.5419616864 * t);
-        X0 += 0.00000001116 * Math.cos(6.06452026137 + 5618.3198048614 * t);
-        X0 += 0.00000001222 * Math.cos(4.54203439135 + 3184.2117061974 * t);
-        X0 += 0.00000001186 * Math.cos(3.10594561435 + 2284.7536148596 * t);
-        X0 += 0.00000001086 * Math.cos(4.32097444181 + 2324.9494088156 * t);
-        X0 += 0.00000001116 * Math.cos(5.86192558592 + 11610.9101753832 * t);
-        X0 += 0.00000001218 * Math.cos(3.59655099027 + 10156.9023601348 * t);
-        X0 += 0.00000001087 * Math.cos(3.97307934350 + 5642.1982426092 * t);
-        X0 += 0.00000001053 * Math.cos(4.99965634200 + 14054.607308026 * t);
-        X0 += 0.00000001193 * Math.cos(2.62619989298 + 6677.3435180416 * t);
-        X0 += 0.00000001102 * Math.cos(5.26420035459 + 7321.1221397136 * t);
-        X0 += 0.00000001153 * Math.cos(5.41879361902 + 6740.5987153132 * t);
-        X0 += 0.00000001069 * Math.cos(2.27857059569 + 9389.0535407862 * t);
-        X0 += 0.00000000990 * Math.cos(5.95411082482 + 3181.6689089166 * t);
-        X0 += 0.00000001146 * Math.cos(4.72384240476 + 3497.0131472022 * t);
-        X0 += 0.00000000991 * Math.cos(1.49574201602 + 4140.4335518652 * t);
-        X0 += 0.00000001269 * Math.cos(5.19931704623 + 3188.7151456146 * t);
-        X0 += 0.00000001220 * Math.cos(5.17708743476 + 6034.2140200848 * t);
-        X0 += 0.00000000977 * Math.cos(1.05449261588 + 3361.9480671668 * t);
-        X0 += 0.00000000977 * Math.cos(1.92768164917 + 3319.2767862328 * t);
-        X0 += 0.00000000978 * Math.cos(1.63172143816 + 11766.2632645146 * t);
-        X0 += 0.00000000968 * Math.cos(6.07406059422 + 1272.6810256272 * t);
-        X0 += 0.00000001351 * Math.cos(1.69299027486 + 9945.5712088238 * t);
-        X0 += 0.00000001167 * Math.cos(0.99889492369 + 9602.3526362242 * t);
-        X0 += 0.00000001030 * Math.cos(4.17831293451 + 12721.572099417 * t);
-        X0 += 0.00000001347 * Math.cos(3.63309297765 + 19513.9835951042 * t);
-        X0 += 0.00000001240 * Math.cos(2.54570206463 + 3302.479391062 * t);
-        X0 += 0.00000000957 * Math.cos(0.10887247031 + 6645.1969867222 * t);
-        X0 += 0.00000000943 * Math.cos(0.62298659929 + 3344.152798701 * t);
-        X0 += 0.00000000943 * Math.cos(5.50078031935 + 3337.0720546986 * t);
-        X0 += 0.00000000929 * Math.cos(3.64733196616 + 4001.8453534808 * t);
-        X0 += 0.00000000978 * Math.cos(3.69409832283 + 2538.2485042536 * t);
-        X0 += 0.00000001121 * Math.cos(0.39414293182 + 9065.5481241288 * t);
-        X0 += 0.00000000960 * Math.cos(4.05565096298 + 3909.4343007272 * t);
-        X0 += 0.00000000908 * Math.cos(3.63883407052 + 3326.3853326982 * t);
-        X0 += 0.00000000956 * Math.cos(0.18458081832 + 20809.4676246452 * t);
-        X0 += 0.00000000910 * Math.cos(5.91297097098 + 931.3630868518 * t);
-        X0 += 0.00000000943 * Math.cos(1.24836664366 + 3337.106562003 * t);
-        X0 += 0.00000000943 * Math.cos(4.87540027498 + 3344.11829139661 * t);
-        X0 += 0.00000000938 * Math.cos(3.56693392724 + 9380.9596727172 * t);
-        X0 += 0.00000001177 * Math.cos(3.67253107095 + 2301.58581590939 * t);
-        X0 += 0.00000000888 * Math.cos(0.45676454811 + 36.6053653042 * t);
-        X0 += 0.00000000886 * Math.cos(0.02869348414 + 8013.2797409404 * t);
-        X0 += 0.00000001115 * Math.cos(4.62962731246 + 16062.1845261168 * t);
-        X0 += 0.00000000925 * Math.cos(3.39792299223 + 1485.9801210652 * t);
-        X0 += 0.00000000867 * Math.cos(0.71131990196 + 7380.4960016272 * t);
-        X0 += 0.00000000967 * Math.cos(4.34960561312 + 11614.4332937322 * t);
-        X0 += 0.00000000879 * Math.cos(5.66441531374 + 3354.8395207014 * t);
-        X0 += 0.00000000878 * Math.cos(3.61953632544 + 169.580183133 * t);
-        X0 += 0.00000000856 * Math.cos(2.38006031197 + 6705.1032911474 * t);
-        X0 += 0.00000001029 * Math.cos(1.80600248702 + 1.4844727083 * t);
-        X0 += 0.00000001200 * Math.cos(5.49938290386 + 2970.9126107594 * t);
-        X0 += 0.00000001039 * Math.cos(1.92430461310 + 4936.7988689844 * t);
-        X0 += 0.00000000966 * Math.cos(0.43635654362 + 8958.9322315612 * t);
-        X0 += 0.00000001018 * Math.cos(1.39692983525 + 2597.6223661672 * t);
-        X0 += 0.00000000868 * Math.cos(4.22723847251 + 9947.0556815321 * t);
-        X0 += 0.00000000888 * Math.cos(6.02934983569 + 170.6728706192 * t);
-        X0 += 0.00000000890 * Math.cos(0.04475975272 + 6747.712262314 * t);
-        X0 += 0.00000000873 * Math.cos(0.50718226570 + 2067.9314010726 * t);
-        X0 += 0.00000000834 * Math.cos(2.38508120043 + 6680.804777306 * t);
-        X0 += 0.00000000958 * Math.cos(3.07864166176 + 2409.249339848 * t);
-        X0 += 0.00000000814 * Math.cos(4.96978756082 + 16703.0448798468 * t);
-        X0 += 0.00000001043 * Math.cos(4.06756024984 + 3492.509707785 * t);
-        X0 += 0.00000000814 * Math.cos(0.71737388513 + 16703.07938715119 * t);
-        X0 += 0.00000000814 * Math.cos(5.25861261683 + 1045.1548361876 * t);
-        X0 += 0.00000000821 * Math.cos(1.45532635718 + 3358.4249488178 * t);
-        X0 += 0.00000000821 * Math.cos(1.52684790788 + 3322.7999045818 * t);
-        X0 += 0.00000001006 * Math.cos(0.32808498663 + 9654.612951137 * t);
-        X0 += 0.00000000872 * Math.cos(3.47010951505 + 3232.9489027612 * t);
-        X0 += 0.00000000890 * Math.cos(6.08153339531 + 8965.9784682592 * t);
-        X0 += 0.00000000848 * Math.cos(5.36530370202 + 11780.4903585162 * t);
-        X0 += 0.00000001004 * Math.cos(4.86111370518 + 16335.8378045366 * t);
-        X0 += 0.00000000792 * Math.cos(0.96216543926 + 7100.7094972748 * t);
-        X0 += 0.00000000779 * Math.cos(3.28803155951 + 3499.555944483 * t);
-        X0 += 0.00000000841 * Math.cos(5.80835389420 + 3448.2759506384 * t);
-        X0 += 0.00000000788 * Math.cos(6.15064642009 + 14421.8316369884 * t);
-        X0 += 0.00000000835 * Math.cos(4.64636271875 + 3929.677253708 * t);
-        X0 += 0.00000000799 * Math.cos(1.71609142624 + 2540.7913015344 * t);
-        X0 += 0.00000001014 * Math.cos(5.93632751077 + 8859.3625756916 * t);
-        X0 += 0.00000001009 * Math.cos(1.23105531513 + 6657.3464156518 * t);
-        X0 += 0.00000001030 * Math.cos(3.76563035339 + 3710.3122426402 * t);
-        X0 += 0.00000000787 * Math.cos(3.96489441416 + 3372.5847325166 * t);
-        X0 += 0.00000000787 * Math.cos(5.30046515807 + 3308.640120883 * t);
-        X0 += 0.00000000725 * Math.cos(6.20615375090 + 3229.4257844122 * t);
-        X0 += 0.00000000825 * Math.cos(5.84109202593 + 3253.30422216 * t);
-        X0 += 0.00000000740 * Math.cos(5.37852418407 + 1062.9050485382 * t);
-        X0 += 0.00000000864 * Math.cos(3.56004399666 + 6717.252720077 * t);
-        X0 += 0.00000000775 * Math.cos(2.63569062709 + 11.0457002639 * t);
-        X0 += 0.00000000729 * Math.cos(5.39810036362 + 22743.4093795164 * t);
-        X0 += 0.00000000819 * Math.cos(3.40537028007 + 802.3639224462 * t);
-        X0 += 0.00000000700 * Math.cos(3.99056780741 + 20426.571092422 * t);
-        X0 += 0.00000000694 * Math.cos(3.05917580830 + 3451.7990689874 * t);
-        X0 += 0.00000000692 * Math.cos(3.93969787894 + 3067.9394693482 * t);
-        X0 += 0.00000000730 * Math.cos(2.57787085198 + 6016.4688082696 * t);
-        X0 += 0.00000000691 * Math.cos(5.21607448399 + 4356.275444584 * t);
-        X0 += 0.00000000795 * Math.cos(3.42431058119 + 3427.9206312396 * t);
-        X0 += 0.00000000707 * Math.cos(3.96444184834 + 20597.2439630412 * t);
-        X0 += 0.00000000729 * Math.cos(3.83003983643 + 15906.7641266826 * t);
-        X0 += 0.00000000950 * Math.cos(2.18428036051 + 20199.094959633 * t);
-        X0 += 0.00000000723 * Math.cos(5.49722551141 + 3735.238311759 * t);
-        X0 += 0.00000000667 * Math.cos(0.37126610848 + 7270.2896804078 * t);
-        X0 += 0.00000000854 * Math.cos(2.68545229893 + 2075.0449480734 * t);
-        X0 += 0.00000000720 * Math.cos(5.37203321727 + 3264.3463554242 * t);
-        X0 += 0.00000000651 * Math.cos(6.09020535330 + 17468.8551979454 * t);
-        X0 += 0.00000000790 * Math.cos(3.21398808141 + 10264.5658840734 * t);
-        X0 += 0.00000000652 * Math.cos(3.12935966774 + 3212.6608936652 * t);
-        X0 += 0.00000000649 * Math.cos(4.05814434604 + 5938.234792867 * t);
-        X0 += 0.00000000675 * Math.cos(5.98880437085 + 15664.03552270859 * t);
-        X0 += 0.00000000659 * Math.cos(0.49287296501 + 22345.2603761082 * t);
-        X0 += 0.00000000633 * Math.cos(3.17232018582 + 17101.2111369072 * t);
-        X0 += 0.00000000646 * Math.cos(2.89002668668 + 485.9720527896 * t);
-        X0 += 0.00000000686 * Math.cos(4.18019464026 + 1437.1756141986 * t);
-        X0 += 0.00000000631 * Math.cos(5.34431180258 + 3329.5667264359 * t);
-        X0 += 0.00000000631 * Math.cos(3.92104776965 + 3351.6581269637 * t);
-        X0 += 0.00000000631 * Math.cos(0.15035258857 + 3343.1552239806 * t);
-        X0 += 0.00000000834 * Math.cos(1.27334165090 + 6681.6449294932 * t);
-        X0 += 0.00000000853 * Math.cos(0.52003136040 + 24150.080051345 * t);
-        X0 += 0.00000000619 * Math.cos(6.13397500805 + 3468.5639597344 * t);
-        X0 += 0.00000000779 * Math.cos(6.20446939192 + 22324.9050567094 * t);
-        X0 += 0.00000000683 * Math.cos(6.06333470888 + 3336.6802734367 * t);
-        X0 += 0.00000000683 * Math.cos(3.20202486335 + 3344.5445799629 * t);
-        X0 += 0.00000000636 * Math.cos(0.86288201968 + 151.0476698429 * t);
-        X0 += 0.00000000600 * Math.cos(2.64922528930 + 3338.069629419 * t);
-        X0 += 0.00000000621 * Math.cos(0.40499338312 + 10448.4354709754 * t);
-        X0 += 0.00000000648 * Math.cos(6.17069054157 + 148.0787244263 * t);
-        X0 += 0.00000000616 * Math.cos(2.11503698022 + 1169.5882514086 * t);
-        X0 += 0.00000000706 * Math.cos(4.51954003602 + 6717.8302187038 * t);
-        X0 += 0.00000000616 * Math.cos(6.01148018963 + 20.3553193988 * t);
-        X0 += 0.00000000588 * Math.cos(2.22654252843 + 6357.7194367422 * t);
-        X0 += 0.00000000628 * Math.cos(5.60511337877 + 3193.8007401762 * t);
-        X0 += 0.00000000704 * Math.cos(2.61366884585 + 3547.3131639964 * t);
-        X0 += 0.00000000575 * Math.cos(1.10923040341 + 3528.5375744624 * t);
-        X0 += 0.00000000602 * Math.cos(6.12196613719 + 6681.6547365263 * t);
-        X0 += 0.00000000672 * Math.cos(1.12165707971 + 6666.997759398 * t);
-        X0 += 0.00000000691 * Math.cos(1.16386423121 + 6679.7403806913 * t);
-        X0 += 0.00000000581 * Math.cos(2.98813744301 + 5490.300961524 * t);
-        X0 += 0.00000000644 * Math.cos(1.94493731078 + 4289.7880356696 * t);
-        X0 += 0.00000000607 * Math.cos(4.43563939259 + 18451.07854656599 * t);
-        X0 += 0.00000000583 * Math.cos(4.47298961595 + 8226.5788363784 * t);
-        X0 += 0.00000000726 * Math.cos(2.91832718034 + 6019.9919266186 * t);
-        X0 += 0.00000000587 * Math.cos(5.01648676427 + 2171.0241752912 * t);
-        X0 += 0.00000000610 * Math.cos(0.51823731379 + 9911.63095888 * t);
-        X0 += 0.00000000648 * Math.cos(2.64885452513 + 4133.3873151672 * t);
-        X0 += 0.00000000602 * Math.cos(4.20897598542 + 2854.6403739102 * t);
-        X0 += 0.00000000600 * Math.cos(4.73583940116 + 6724.9437657046 * t);
-        X0 += 0.00000000644 * Math.cos(1.17944696282 + 52175.8062831484 * t);
-        X0 += 0.00000000606 * Math.cos(2.45518551356 + 401.6721217572 * t);
-        X0 += 0.00000000613 * Math.cos(3.89660700480 + 6549.6828917132 * t);
-        X0 += 0.00000000536 * Math.cos(5.25877052470 + 3613.2853840514 * t);
-        X0 += 0.00000000634 * Math.cos(4.14005244900 + 6510.5519827804 * t);
-        X0 += 0.00000000620 * Math.cos(2.73565451839 + 2149.6885348242 * t);
-        X0 += 0.00000000554 * Math.cos(2.33553669625 + 394.6258850592 * t);
-        X0 += 0.00000000602 * Math.cos(3.81964202131 + 6680.7949702729 * t);
-        X0 += 0.00000000676 * Math.cos(0.15809413709 + 19004.6479494084 * t);
-        X0 += 0.00000000702 * Math.cos(6.04600603759 + 43.718912305 * t);
-        X0 += 0.00000000522 * Math.cos(3.84057547649 + 3341.7930693519 * t);
-        X0 += 0.00000000522 * Math.cos(5.42478409574 + 3339.4317840477 * t);
-        X0 += 0.00000000533 * Math.cos(5.24914312775 + 4039.8835749274 * t);
-        X0 += 0.00000000553 * Math.cos(3.69265541501 + 3487.4241132234 * t);
-        X0 += 0.00000000513 * Math.cos(0.64644878070 + 299.1263942692 * t);
-        X0 += 0.00000000715 * Math.cos(1.53240537508 + 4503.0871311076 * t);
-        X0 += 0.00000000509 * Math.cos(2.23251368203 + 8116.372515159 * t);
-        X0 += 0.00000000511 * Math.cos(2.84475025859 + 16489.763038061 * t);
-        X0 += 0.00000000505 * Math.cos(4.84005215499 + 1063.3140834523 * t);
-        X0 += 0.00000000543 * Math.cos(4.52630986182 + 1596.1191319818 * t);
-        X0 += 0.00000000640 * Math.cos(5.62224402692 + 1641.3332101966 * t);
-        X0 += 0.00000000637 * Math.cos(0.43174002743 + 3133.9116894032 * t);
-        X0 += 0.00000000530 * Math.cos(1.06693271495 + 1699.2792165032 * t);
-        X0 += 0.00000000500 * Math.cos(5.72569791561 + 11250.7993934216 * t);
-        X0 += 0.00000000639 * Math.cos(2.24611646652 + 3116.2676309979 * t);
-        X0 += 0.00000000509 * Math.cos(5.97801633911 + 6812.766815086 * t);
-        X0 += 0.00000000489 * Math.cos(3.06702523150 + 13575.7488022372 * t);
-        X0 += 0.00000000535 * Math.cos(4.96839537782 + 9072.6616711296 * t);
-        X0 += 0.00000000548 * Math.cos(2.32220742395 + 1265.5674786264 * t);
-        X0 += 0.00000000536 * Math.cos(0.22943192463 + 3198.4337996636 * t);
-        X0 += 0.00000000478 * Math.cos(5.77351763837 + 114.3991069134 * t);
-        X0 += 0.00000000619 * Math.cos(4.96805088979 + 13207.029307365 * t);
-        X0 += 0.00000000476 * Math.cos(0.22242794163 + 6850.8050365326 * t);
-        X0 += 0.00000000475 * Math.cos(5.62964593507 + 12323.4230960088 * t);
-        X0 += 0.00000000527 * Math.cos(6.00961327639 + 3289.33208883739 * t);
-        X0 += 0.00000000527 * Math.cos(3.25574629584 + 3391.89276456221 * t);
-        X0 += 0.00000000491 * Math.cos(1.41447645810 + 3288.352111787 * t);
-        X0 += 0.00000000491 * Math.cos(1.56769780695 + 3392.8727416126 * t);
-        X0 += 0.00000000532 * Math.cos(1.66614420688 + 1055.4497769261 * t);
-        X0 += 0.00000000633 * Math.cos(2.67463316712 + 5085.038411115 * t);
-        X0 += 0.00000000577 * Math.cos(0.03289264393 + 735.8765135318 * t);
-        X0 += 0.00000000467 * Math.cos(3.47228897303 + 5749.8617665478 * t);
-        X0 += 0.00000000473 * Math.cos(3.22546086486 + 4296.9015826704 * t);
-        X0 += 0.00000000489 * Math.cos(2.81861982191 + 23.8784377478 * t);
-        X0 += 0.00000000483 * Math.cos(3.92195396855 + 3334.54651107 * t);
-        X0 += 0.00000000483 * Math.cos(5.34340560368 + 3346.6783423296 * t);
-        X0 += 0.00000000460 * Math.cos(1.30162811155 + 2281.2477501628 * t);
-        X0 += 0.00000000460 * Math.cos(5.55404178724 + 2281.2132428584 * t);
-        X0 += 0.00000000604 * Math.cos(0.33192898022 + 2373.6415492642 * t);
-        X0 += 0.00000000500 * Math.cos(5.13403373442 + 3.5904286518 * t);
-        X0 += 0.00000000456 * Math.cos(4.28478904313 + 8962.4726035624 * t);
-        X0 += 0.00000000456 * Math.cos(2.25401741164 + 8962.438096258 * t);
-        X0 += 0.00000000468 * Math.cos(2.07609656896 + 227.476132789 * t);
-        X0 += 0.00000000456 * Math.cos(5.37224883784 + 11140.5930722022 * t);
-        X0 += 0.00000000506 * Math.cos(2.75253411801 + 3482.791053736 * t);
-        X0 += 0.00000000453 * Math.cos(3.59225016346 + 2957.7331481288 * t);
-        X0 += 0.00000000633 * Math.cos(0.33861758809 + 2963.238818784 * t);
-        X0 += 0.00000000502 * Math.cos(4.62394688433 + 5562.4690612968 * t);
-        X0 += 0.00000000604 * Math.cos(4.34031313242 + 3370.1042450032 * t);
-        X0 += 0.00000000604 * Math.cos(4.92504643981 + 3311.1206083964 * t);
-        X0 += 0.00000000501 * Math.cos(3.19333781608 + 2973.3880977374 * t);
-        X0 += 0.00000000448 * Math.cos(4.97947122194 + 13361.469385731 * t);
-        X0 += 0.00000000500 * Math.cos(2.53823457541 + 4819.4790007642 * t);
-        X0 += 0.00000000517 * Math.cos(0.40478673929 + 3535.5838111604 * t);
-        X0 += 0.00000000440 * Math.cos(4.69261655966 + 3564.9572224017 * t);
-        X0 += 0.00000000481 * Math.cos(6.20073949182 + 2494.5295919486 * t);
-        X0 += 0.00000000468 * Math.cos(3.63933137782 + 1854.6323056346 * t);
-        X0 += 0.00000000477 * Math.cos(5.99645045824 + 4379.6390374902 * t);
-        X0 += 0.00000000468 * Math.cos(5.32421286728 + 4186.695261451 * t);
-        X0 += 0.00000000430 * Math.cos(1.74068392340 + 4716.3862265456 * t);
-        X0 += 0.00000000486 * Math.cos(3.22416128411 + 382.879278571 * t);
-        X0 += 0.00000000486 * Math.cos(6.15985349823 + 3017.1070100424 * t);
-        X0 += 0.00000000473 * Math.cos(1.58270299229 + 2295.4575905122 * t);
-        X0 += 0.00000000536 * Math.cos(3.39382424699 + 860.3099287528 * t);
-        X0 += 0.00000000561 * Math.cos(0.07727661747 + 4271.9755135516 * t);
-        X0 += 0.00000000423 * Math.cos(3.86495066196 + 7366.2689076256 * t);
-        X0 += 0.00000000427 * Math.cos(3.93347122226 + 1574.8458012822 * t);
-        X0 += 0.00000000456 * Math.cos(3.39763687697 + 10006.5848089144 * t);
-        X0 += 0.00000000539 * Math.cos(2.16593861972 + 3185.2593375684 * t);
-        X0 += 0.00000000420 * Math.cos(3.46957754355 + 5753.3848848968 * t);
-        X0 += 0.00000000558 * Math.cos(5.31907263521 + 4555.3474460204 * t);
-        X0 += 0.00000000546 * Math.cos(4.81957800358 + 6637.5059410946 * t);
-        X0 += 0.00000000412 * Math.cos(3.44279945540 + 2480.302497947 * t);
-        X0 += 0.00000000433 * Math.cos(5.19722898458 + 3305.0496922312 * t);
-        X0 += 0.00000000433 * Math.cos(4.06813058765 + 3376.1751611684 * t);
-        X0 += 0.00000000423 * Math.cos(0.94668022805 + 10037.0897512844 * t);
-        X0 += 0.00000000481 * Math.cos(1.03096497224 + 6685.1570066627 * t);
-        X0 += 0.00000000422 * Math.cos(5.46293451808 + 9374.8264467846 * t);
-        X0 += 0.00000000402 * Math.cos(1.79269566106 + 6151.5511419572 * t);
-        X0 += 0.00000000402 * Math.cos(6.04510933675 + 6151.5166346528 * t);
-        X0 += 0.00000000423 * Math.cos(3.58342380203 + 5483.254724826 * t);
-        X0 += 0.00000000403 * Math.cos(5.64429159047 + 3723.4917052708 * t);
-        X0 += 0.00000000430 * Math.cos(1.85452102379 + 2655.5683724738 * t);
-        X0 += 0.00000000398 * Math.cos(4.95155912622 + 15806.146839442 * t);
-        X0 += 0.00000000400 * Math.cos(2.79186394236 + 18849.2275499742 * t);
-        X0 += 0.00000000481 * Math.cos(5.12886978063 + 9797.4924843975 * t);
-        X0 += 0.00000000477 * Math.cos(3.72133708668 + 6614.7374444852 * t);
-        X0 += 0.00000000398 * Math.cos(5.88751420420 + 23539.7073863328 * t);
-        X0 += 0.00000000487 * Math.cos(2.28517115642 + 1655.5603041982 * t);
-        X0 += 0.00000000555 * Math.cos(2.64204069171 + 3717.9860346156 * t);
-        X0 += 0.00000000425 * Math.cos(5.57148739497 + 7218.029365495 * t);
-        X0 += 0.00000000402 * Math.cos(4.31277297914 + 1685.0521225016 * t);
-        X0 += 0.00000000391 * Math.cos(3.40113572996 + 2142.6422981262 * t);
-        X0 += 0.00000000486 * Math.cos(4.84700116898 + 10050.2864675672 * t);
-        X0 += 0.00000000412 * Math.cos(0.16244075037 + 2547.8375382324 * t);
-        X0 += 0.00000000398 * Math.cos(4.39213965028 + 21265.5231265202 * t);
-        X0 += 0.00000000404 * Math.cos(5.22642617943 + 6644.6194880954 * t);
-        X0 += 0.00000000414 * Math.cos(2.26881914667 + 7747.7203305896 * t);
-        X0 += 0.00000000498 * Math.cos(5.67868360175 + 12509.2533250472 * t);
-        X0 += 0.00000000378 * Math.cos(2.64779087849 + 9801.4246376606 * t);
-        X0 += 0.00000000427 * Math.cos(5.92154870681 + 905.4566966648 * t);
-        X0 += 0.00000000437 * Math.cos(1.90267249585 + 5881.4037282342 * t);
-        X0 += 0.00000000368 * Math.cos(1.75512352528 + 912.5702436656 * t);
-        X0 += 0.00000000520 * Math.cos(0.92503823923 + 3495.9655158312 * t);
-        X0 += 0.00000000441 * Math.cos(1.82874447797 + 2277.2983432475 * t);
-        X0 += 0.00000000367 * Math.cos(5.98732751616 + 8564.306346502 * t);
-        X0 += 0.00000000388 * Math.cos(1.53417071545 + 18606.4989460002 * t);
-        X0 += 0.00000000399 * Math.cos(0.90410764395 + 515.463871093 * t);
-        X0 += 0.00000000436 * Math.cos(5.31667755006 + 1903.4368125012 * t);
-        X0 += 0.00000000398 * Math.cos(5.06921695985 + 3826.5844794894 * t);
-        X0 += 0.00000000363 * Math.cos(1.41903182152 + 5888.4499649322 * t);
-        X0 += 0.00000000441 * Math.cos(5.31541881274 + 4142.976349146 * t);
-        X0 += 0.00000000429 * Math.cos(5.04278490313 + 2285.1626497737 * t);
-        X0 += 0.00000000502 * Math.cos(2.89985394281 + 1765.7666254176 * t);
-        X0 += 0.00000000415 * Math.cos(4.78022286670 + 0.9803210682 * t);
-        X0 += 0.00000000374 * Math.cos(2.30167430662 + 25287.7237993998 * t);
-        X0 += 0.00000000359 * Math.cos(5.01487522235 + 5085.1057214178 * t);
-        X0 += 0.00000000477 * Math.cos(4.55805347389 + 1329.51209026 * t);
-        X0 += 0.00000000470 * Math.cos(5.45120104784 + 21795.21409161479 * t);
-        X0 += 0.00000000372 * Math.cos(1.43435867925 + 6314.0005244372 * t);
-        X0 += 0.00000000351 * Math.cos(5.70642746558 + 6851.8977240188 * t);
-        X0 += 0.00000000346 * Math.cos(3.46248777629 + 20735.83216142559 * t);
-        X0 += 0.00000000452 * Math.cos(2.07880491518 + 6106.8800550648 * t);
-        X0 += 0.00000000344 * Math.cos(0.65068647382 + 16894.5103996106 * t);
-        X0 += 0.00000000432 * Math.cos(6.00026910363 + 10721.108428327 * t);
-        X0 += 0.00000000364 * Math.cos(2.28651674734 + 6682.7093261079 * t);
-        X0 += 0.00000000363 * Math.cos(3.43072832179 + 27682.1407441564 * t);
-        X0 += 0.00000000452 * Math.cos(2.64364626735 + 4307.5833041354 * t);
-        X0 += 0.00000000457 * Math.cos(1.95175594362 + 21947.11137270 * t);
-        X0 += 0.00000000346 * Math.cos(5.34426955778 + 18052.9295431578 * t);
-        X0 += 0.00000000351 * Math.cos(4.37551100665 + 5452.2627400774 * t);
-        X0 += 0.00000000468 * Math.cos(5.41577295140 + 5244.049239201 * t);
-        X0 += 0.00000000386 * Math.cos(1.07126796902 + 5511.636601991 * t);
-        X0 += 0.00000000344 * Math.cos(3.95436427366 + 5636.070017212 * t);
-        X0 += 0.00000000434 * Math.cos(1.89640980600 + 7214.4389368432 * t);
-        X0 += 0.00000000333 * Math.cos(3.01713296302 + 1883.0814931024 * t);
-        X0 += 0.00000000395 * Math.cos(5.73856202838 + 9993.3880926316 * t);
-        X0 += 0.00000000351 * Math.cos(1.69786249501 + 13212.8865096646 * t);
-        X0 += 0.00000000331 * Math.cos(0.85002011574 + 25685.872802808 * t);
-        X0 += 0.00000000327 * Math.cos(5.61960069444 + 3353.85419909779 * t);
-        X0 += 0.00000000327 * Math.cos(3.64575887779 + 3327.3706543018 * t);
-        X0 += 0.00000000422 * Math.cos(3.91288097624 + 23141.5583829246 * t);
-        X0 += 0.00000000328 * Math.cos(1.43840362685 + 2435.155730035 * t);
-        X0 += 0.00000000447 * Math.cos(0.03231232062 + 13363.4300278674 * t);
-        X0 += 0.00000000389 * Math.cos(2.62527245368 + 30065.5118402982 * t);
-        X0 += 0.00000000360 * Math.cos(5.62003938434 + 7696.8878712838 * t);
-        X0 += 0.00000000395 * Math.cos(3.32438313830 + 3337.1566186536 * t);
-        X0 += 0.00000000338 * Math.cos(6.08218637594 + 14556.8967170238 * t);
-        X0 += 0.00000000344 * Math.cos(6.13564952381 + 146.8116865236 * t);
-        X0 += 0.00000000337 * Math.cos(3.39517266137 + 543.9180590962 * t);
-        X0 += 0.00000000408 * Math.cos(1.39299721966 + 11883.5831327348 * t);
-        X0 += 0.00000000366 * Math.cos(5.24290558594 + 8982.810669309 * t);
-        X0 += 0.00000000384 * Math.cos(5.87249757638 + 7733.493236588 * t);
-        X0 += 0.00000000352 * Math.cos(5.77288434437 + 14128.2427712456 * t);
-        X0 += 0.00000000335 * Math.cos(4.32457058810 + 3060.8259223474 * t);
-        X0 += 0.00000000388 * Math.cos(4.44896509079 + 568.8218740274 * t);
-        X0 += 0.00000000316 * Math.cos(2.10306900154 + 3241.0427708302 * t);
-        X0 += 0.00000000316 * Math.cos(0.87910526351 + 3440.1820825694 * t);
-        X0 += 0.00000000355 * Math.cos(1.45980558865 + 7322.1024607818 * t);
-        X0 += 0.00000000354 * Math.cos(2.21314787069 + 4606.1799053262 * t);
-        X0 += 0.00000000311 * Math.cos(2.88232671968 + 36.0278666774 * t);
-        X0 += 0.00000000310 * Math.cos(0.93049157656 + 6453.7487206106 * t);
-        X0 += 0.00000000309 * Math.cos(5.01156668552 + 1744.493294718 * t);
-        X0 += 0.00000000300 * Math.cos(3.78833306333 + 1987.221898692 * t);
-        X0 += 0.00000000299 * Math.cos(5.63008167210 + 10284.9212034722 * t);
-        X0 += 0.00000000380 * Math.cos(3.85628097313 + 1461.0540519464 * t);
-        X0 += 0.00000000294 * Math.cos(3.49253072198 + 20040.15144184979 * t);
-        X0 += 0.00000000313 * Math.cos(2.87459690276 + 6286.5989683404 * t);
-        X0 += 0.00000000296 * Math.cos(1.12829662810 + 15265.8865193004 * t);
-        X0 += 0.00000000307 * Math.cos(1.51056904066 + 9755.2302383776 * t);
-        X0 += 0.00000000306 * Math.cos(6.04593408110 + 8756.269801473 * t);
-        X0 += 0.00000000393 * Math.cos(3.05426132167 + 19645.5255567906 * t);
-        X0 += 0.00000000292 * Math.cos(0.99823300732 + 20618.0193585336 * t);
-        X0 += 0.00000000328 * Math.cos(3.60990432876 + 3397.4156888696 * t);
-        X0 += 0.00000000328 * Math.cos(5.65545524347 + 3283.80916453 * t);
-        X0 += 0.00000000349 * Math.cos(2.66323218421 + 5408.5438277724 * t);
-        X0 += 0.00000000360 * Math.cos(6.18194085240 + 685.044054226 * t);
-        X0 += 0.00000000289 * Math.cos(3.03452497225 + 24341.5283174566 * t);
-        X0 += 0.00000000291 * Math.cos(2.47822451317 + 11986.6759069534 * t);
-        X0 += 0.00000000314 * Math.cos(4.21854332735 + 9983.7042444616 * t);
-        X0 += 0.00000000339 * Math.cos(1.83011385698 + 3856.0762977928 * t);
-        X0 += 0.00000000339 * Math.cos(1.15206040807 + 2825.1485556068 * t);
-        X0 += 0.00000000383 * Math.cos(4.85732660755 + 2921.6880277992 * t);
-        X0 += 0.00000000311 * Math.cos(5.32153691075 + 2060.8178540718 * t);
-        X0 += 0.00000000302 * Math.cos(0.20821199425 + 12825.6451947038 * t);
-        X0 += 0.00000000286 * Math.cos(2.52935183562 + 279.7865043524 * t);
-        X0 += 0.00000000327 * Math.cos(0.66722093799 + 533.6231183577 * t);
-        X0 += 0.00000000330 * Math.cos(1.47315787255 + 1073.6090241908 * t);
-        X0 += 0.00000000382 * Math.cos(2.75070755631 + 3267.3153008408 * t);
-        X0 += 0.00000000382 * Math.cos(0.23146670874 + 3413.9095525588 * t);
-        X0 += 0.00000000304 * Math.cos(4.94290577295 + 3620.3989310522 * t);
-        X0 += 0.00000000279 * Math.cos(6.01035218252 + 7167.1969061892 * t);
-        X0 += 0.00000000331 * Math.cos(5.02435559950 + 16063.164847185 * t);
-        X0 += 0.00000000329 * Math.cos(3.13549589139 + 10706.8813343254 * t);
-        X0 += 0.00000000283 * Math.cos(2.78335440325 + 12839.8722887054 * t);
-        X0 += 0.00000000282 * Math.cos(2.30154816582 + 596.178374009 * t);
-        X0 += 0.00000000283 * Math.cos(6.10276906215 + 9859.3706439672 * t);
-        X0 += 0.00000000304 * Math.cos(3.83786604384 + 5621.8601768626 * t);
-        X0 += 0.00000000280 * Math.cos(1.99086077526 + 16511.6138673874 * t);
-        X0 += 0.00000000264 * Math.cos(4.18346044185 + 2938.9403049426 * t);
-        X0 += 0.00000000325 * Math.cos(5.09647854302 + 2267.003402509 * t);
-        X0 += 0.00000000262 * Math.cos(4.93101522736 + 3936.7908007088 * t);
-        X0 += 0.00000000320 * Math.cos(3.75392999296 + 525.7588118315 * t);
-        X0 += 0.00000000269 * Math.cos(4.46038699829 + 2744.4340526908 * t);
-        X0 += 0.00000000258 * Math.cos(4.05781923499 + 5195.2447323344 * t);
-        X0 += 0.00000000333 * Math.cos(2.04472732064 + 95.9792272178 * t);
-        X0 += 0.00000000304 * Math.cos(1.80709441235 + 5621.8256695582 * t);
-        X0 += 0.00000000271 * Math.cos(5.41787864949 + 3336.0416769798 * t);
-        X0 += 0.00000000271 * Math.cos(3.84748092274 + 3345.1831764198 * t);
-        X0 += 0.00000000251 * Math.cos(3.72595297988 + 3337.5093844444 * t);
-        X0 += 0.00000000251 * Math.cos(5.53940659235 + 3343.7154689552 * t);
-        X0 += 0.00000000251 * Math.cos(4.94262467913 + 9758.7533567266 * t);
-        X0 += 0.00000000255 * Math.cos(1.40204343749 + 8166.1573430938 * t);
-        X0 += 0.00000000305 * Math.cos(2.93351381201 + 12012.5822971404 * t);
-        X0 += 0.00000000267 * Math.cos(2.53115640127 + 6830.7880505342 * t);
-        X0 += 0.00000000286 * Math.cos(0.19313178141 + 1898.3512179396 * t);
-        X0 += 0.00000000290 * Math.cos(2.87280676776 + 20047.1976785478 * t);
-        X0 += 0.00000000268 * Math.cos(3.04782864984 + 16702.9948231962 * t);
-        X0 += 0.00000000250 * Math.cos(2.52509673305 + 9698.331863442 * t);
-        X0 += 0.00000000250 * Math.cos(1.90792798203 + 206.7007372966 * t);
-        X0 += 0.00000000325 * Math.cos(5.19161338170 + 5223.6939198022 * t);
-        X0 += 0.00000000246 * Math.cos(5.47040036393 + 15650.7937503106 * t);
-        X0 += 0.00000000247 * Math.cos(1.02711909982 + 10016.314355792 * t);
-        X0 += 0.00000000256 * Math.cos(3.14761311872 + 1727.6610936682 * t);
-        X0 += 0.00000000276 * Math.cos(0.25330294459 + 6670.1791531357 * t);
-        X0 += 0.00000000321 * Math.cos(0.33443990553 + 11904.9187732018 * t);
-        X0 += 0.00000000239 * Math.cos(5.48924135437 + 4694.0029547076 * t);
-        X0 += 0.00000000323 * Math.cos(0.19078991314 + 17085.9586657222 * t);
-        X0 += 0.00000000250 * Math.cos(4.16248987175 + 1250.8301963008 * t);
-        X0 += 0.00000000258 * Math.cos(4.26017972975 + 9488.6231966558 * t);
-        X0 += 0.00000000248 * Math.cos(5.11028885968 + 5430.3946570988 * t);
-        X0 += 0.00000000269 * Math.cos(3.40949811009 + 3866.7802734454 * t);
-        X0 += 0.00000000248 * Math.cos(3.35507631239 + 21548.9623692918 * t);
-        X0 += 0.00000000265 * Math.cos(4.47706550812 + 3053.6500655792 * t);
-        X0 += 0.00000000240 * Math.cos(3.30477326315 + 10027.3602044068 * t);
-        X0 += 0.00000000252 * Math.cos(0.39861936276 + 1442.2612087602 * t);
-        X0 += 0.00000000321 * Math.cos(4.39948566918 + 3759.5368256004 * t);
-        X0 += 0.00000000319 * Math.cos(5.16188908240 + 9815.6517316622 * t);
-        X0 += 0.00000000251 * Math.cos(5.09258201655 + 4996.172730898 * t);
-        X0 += 0.00000000251 * Math.cos(1.69378698516 + 1279.794572628 * t);
-        X0 += 0.00000000251 * Math.cos(0.30797289315 + 2790.5661422064 * t);
-        X0 += 0.00000000326 * Math.cos(5.77584210418 + 3707.8367556622 * t);
-        X0 += 0.00000000234 * Math.cos(3.19518041867 + 5.5229243074 * t);
-        X0 += 0.00000000311 * Math.cos(1.28359118800 + 3391.4448860056 * t);
-        X0 += 0.00000000311 * Math.cos(1.69858307705 + 3289.779967394 * t);
-        X0 += 0.00000000230 * Math.cos(3.19673604492 + 10654.6210194126 * t);
-        X0 += 0.00000000292 * Math.cos(0.94159319004 + 3050.1269472302 * t);
-        X0 += 0.00000000235 * Math.cos(3.67396491403 + 5945.3483398678 * t);
-        X0 += 0.00000000301 * Math.cos(3.92363660385 + 9495.6694333538 * t);
-        X0 += 0.00000000238 * Math.cos(3.24637215696 + 6566.8257464862 * t);
-        X0 += 0.00000000226 * Math.cos(4.13525718252 + 1868.8593996362 * t);
-        X0 += 0.00000000226 * Math.cos(1.47633059250 + 26482.1708096244 * t);
-        X0 += 0.00000000225 * Math.cos(3.08572061461 + 8749.1562544722 * t);
-        X0 += 0.00000000312 * Math.cos(5.79379290810 + 4403.517475238 * t);
-        X0 += 0.00000000248 * Math.cos(0.28758278932 + 4025.6564809258 * t);
-        X0 += 0.00000000222 * Math.cos(2.77571943902 + 1835.3246176068 * t);
-        X0 += 0.00000000289 * Math.cos(2.22892326730 + 6901.6374958384 * t);
-        X0 += 0.00000000244 * Math.cos(3.78617592414 + 5349.1699658588 * t);
-        X0 += 0.00000000268 * Math.cos(2.63933226300 + 16703.1294438018 * t);
-        X0 += 0.00000000221 * Math.cos(0.14023240804 + 5820.9149246468 * t);
-        X0 += 0.00000000220 * Math.cos(4.31591174490 + 6511.6446702666 * t);
-        X0 += 0.00000000221 * Math.cos(2.65317035374 + 28628.3362260996 * t);
-        X0 += 0.00000000224 * Math.cos(1.51015445842 + 3542.8658218739 * t);
-        X0 += 0.00000000224 * Math.cos(1.47201980663 + 3138.3590315257 * t);
-        X0 += 0.00000000234 * Math.cos(1.63110110036 + 17499.3601403154 * t);
-        X0 += 0.00000000233 * Math.cos(1.29817926717 + 2814.4445799542 * t);
-        X0 += 0.00000000229 * Math.cos(3.43841964101 + 7586.6815500644 * t);
-        X0 += 0.00000000272 * Math.cos(5.08807244203 + 2428.0421830342 * t);
-        X0 += 0.00000000218 * Math.cos(1.17569842797 + 6283.0931036436 * t);
-        X0 += 0.00000000218 * Math.cos(5.42811210366 + 6283.0585963392 * t);
-        X0 += 0.00000000220 * Math.cos(4.76795289662 + 3987.6232600146 * t);
-        X0 += 0.00000000250 * Math.cos(0.35926935365 + 4569.574540022 * t);
-        X0 += 0.00000000276 * Math.cos(4.17681654313 + 19146.7592661418 * t);
-        X0 += 0.00000000290 * Math.cos(3.77728541747 + 24889.5747959916 * t);
-        X0 += 0.00000000215 * Math.cos(0.44293995073 + 13383.2251022916 * t);
-        X0 += 0.00000000226 * Math.cos(4.11036906370 + 9278.8472195668 * t);
-        X0 += 0.00000000224 * Math.cos(3.68654579964 + 77.7505439839 * t);
-        X0 += 0.00000000216 * Math.cos(4.73186620361 + 1484.9324896942 * t);
-        X0 += 0.00000000266 * Math.cos(5.48398122109 + 16865.5287696312 * t);
-        X0 += 0.00000000220 * Math.cos(6.16562235845 + 10081.211142013 * t);
-        X0 += 0.00000000211 * Math.cos(0.32806954610 + 12199.9750023914 * t);
-        X0 += 0.00000000212 * Math.cos(1.71640241592 + 2392.4171387982 * t);
-        X0 += 0.00000000213 * Math.cos(1.85863025152 + 8852.2490286908 * t);
-        X0 += 0.00000000237 * Math.cos(4.78828856124 + 3627.57478782039 * t);
-        X0 += 0.00000000220 * Math.cos(2.11900337312 + 6530.1771835567 * t);
-        X0 += 0.00000000271 * Math.cos(5.46357121828 + 1879.5583747534 * t);
-        X0 += 0.00000000249 * Math.cos(4.15415677649 + 3084.6420503278 * t);
-        X0 += 0.00000000263 * Math.cos(0.61040728538 + 4531.5363185754 * t);
-        X0 += 0.00000000252 * Math.cos(4.61076732703 + 3382.1632176846 * t);
-        X0 += 0.00000000252 * Math.cos(4.65459224520 + 3299.061635715 * t);
-        X0 += 0.00000000239 * Math.cos(3.20969165945 + 3344.068234746 * t);
-        X0 += 0.00000000245 * Math.cos(0.72828250886 + 5415.6573747732 * t);
-        X0 += 0.00000000262 * Math.cos(2.04018754229 + 3631.0979061694 * t);
-        X0 += 0.00000000206 * Math.cos(3.37175065629 + 7082.8969751568 * t);
-        X0 += 0.00000000210 * Math.cos(1.09820249005 + 6678.4733427886 * t);
-        X0 += 0.00000000255 * Math.cos(3.12461702046 + 1994.26813539 * t);
-        X0 += 0.00000000274 * Math.cos(0.08218879095 + 12306.590894959 * t);
-        X0 += 0.00000000223 * Math.cos(4.70596581354 + 3336.25039031 * t);
-        X0 += 0.00000000223 * Math.cos(4.55939375869 + 3344.9744630896 * t);
-        X0 += 0.00000000255 * Math.cos(0.57687651969 + 2942.4806769438 * t);
-        X0 += 0.00000000224 * Math.cos(3.09499220473 + 6533.1461289733 * t);
-        X0 += 0.00000000204 * Math.cos(2.43235400749 + 15636.566656309 * t);
-        X0 += 0.00000000277 * Math.cos(5.82784264481 + 12465.5344127422 * t);
-        X0 += 0.00000000201 * Math.cos(0.64407263170 + 9360.6043533184 * t);
-        X0 += 0.00000000200 * Math.cos(4.36647250597 + 5617.9107699473 * t);
-        X0 += 0.00000000199 * Math.cos(4.83225730856 + 3029.7716278314 * t);
-        X0 += 0.00000000243 * Math.cos(5.80727046187 + 9329.6796788726 * t);
-        X0 += 0.00000000210 * Math.cos(4.11232561432 + 28230.18722269139 * t);
-        X0 += 0.00000000209 * Math.cos(0.61702908361 + 4845.9002357928 * t);
-        X0 += 0.00000000197 * Math.cos(2.72488864890 + 3436.5916539176 * t);
-        X0 += 0.00000000197 * Math.cos(0.25728561615 + 3244.633199482 * t);
-        X0 += 0.00000000244 * Math.cos(2.15306679937 + 4981.9456368964 * t);
-        X0 += 0.00000000200 * Math.cos(1.77158830078 + 8742.0427074714 * t);
-        X0 += 0.00000000231 * Math.cos(4.21063730317 + 6653.8232973028 * t);
-        X0 += 0.00000000213 * Math.cos(1.25314316353 + 5625.7750764735 * t);
-        X0 += 0.00000000198 * Math.cos(5.49218659041 + 3094.36070437679 * t);
-        X0 += 0.00000000223 * Math.cos(4.58369899094 + 13341.6743113068 * t);
-        X0 += 0.00000000200 * Math.cos(1.29969484450 + 194.9713844606 * t);
-        X0 += 0.00000000195 * Math.cos(2.65042618750 + 117.3198682202 * t);
-        X0 += 0.00000000191 * Math.cos(0.79284041095 + 3752.9835235742 * t);
-        X0 += 0.00000000191 * Math.cos(2.18933385410 + 2928.2413298254 * t);
-        X0 += 0.00000000236 * Math.cos(4.40014218317 + 151.8972810852 * t);
-        X0 += 0.00000000212 * Math.cos(0.12583581747 + 4538.5825552734 * t);
-        X0 += 0.00000000192 * Math.cos(3.57878803630 + 3315.7536678838 * t);
-        X0 += 0.00000000192 * Math.cos(5.68657153593 + 3365.4711855158 * t);
-        X0 += 0.00000000226 * Math.cos(5.11122130646 + 3596.5828030718 * t);
-        X0 += 0.00000000231 * Math.cos(4.57994360527 + 2011.1003364398 * t);
-        X0 += 0.00000000220 * Math.cos(5.61438064276 + 367.2243289624 * t);
-        X0 += 0.00000000189 * Math.cos(2.94640552324 + 18208.349942592 * t);
-        X0 += 0.00000000255 * Math.cos(4.82929019537 + 2942.4461696394 * t);
-        X0 += 0.00000000191 * Math.cos(2.45356219299 + 10544.4146981932 * t);
-        X0 += 0.00000000206 * Math.cos(5.96915912893 + 1155.361157407 * t);
-        X0 += 0.00000000205 * Math.cos(2.24870894157 + 1059.364676537 * t);
-        X0 += 0.00000000251 * Math.cos(2.00699090318 + 11236.57229942 * t);
-        X0 += 0.00000000242 * Math.cos(3.32140683721 + 23958.6317852334 * t);
-        X0 += 0.00000000200 * Math.cos(2.06264335128 + 2735.762685995 * t);
-        X0 += 0.00000000188 * Math.cos(1.76018994600 + 3363.3809233092 * t);
-        X0 += 0.00000000188 * Math.cos(1.22198431905 + 3317.8439300904 * t);
-        X0 += 0.00000000204 * Math.cos(5.63575473469 + 5106.3790521174 * t);
-        X0 += 0.00000000231 * Math.cos(4.09195306459 + 9093.9973115966 * t);
-        X0 += 0.00000000184 * Math.cos(0.25169651319 + 11353.8921676402 * t);
-        X0 += 0.00000000182 * Math.cos(2.90199742784 + 5960.0856221934 * t);
-        X0 += 0.00000000247 * Math.cos(3.75287740090 + 31022.7531708562 * t);
-        X0 += 0.00000000199 * Math.cos(2.62229622602 + 3890.65871119319 * t);
-        X0 += 0.00000000193 * Math.cos(4.00281238141 + 7417.1013669314 * t);
-        X0 += 0.00000000179 * Math.cos(2.29351099603 + 6382.0984591304 * t);
-        X0 += 0.00000000181 * Math.cos(3.44076025740 + 1755.062649765 * t);
-        X0 += 0.00000000222 * Math.cos(1.29490505737 + 3070.4149563262 * t);
-        X0 += 0.00000000178 * Math.cos(1.75815826780 + 15106.8756912144 * t);
-        X0 += 0.00000000177 * Math.cos(4.43296153727 + 3651.4532255682 * t);
-        X0 += 0.00000000213 * Math.cos(0.75884375260 + 11925.2740926006 * t);
-        X0 += 0.00000000232 * Math.cos(5.03524840558 + 3163.918696566 * t);
-        X0 += 0.00000000232 * Math.cos(4.23011116665 + 3517.3061568336 * t);
-        X0 += 0.00000000180 * Math.cos(0.58769217206 + 3332.5185586308 * t);
-        X0 += 0.00000000180 * Math.cos(2.39448209299 + 3348.7062947688 * t);
-        X0 += 0.00000000179 * Math.cos(3.77306261408 + 3586.8641490228 * t);
-        X0 += 0.00000000205 * Math.cos(4.27948057306 + 1059.3991838414 * t);
-        X0 += 0.00000000187 * Math.cos(2.61826471479 + 2619.4731954936 * t);
-        X0 += 0.00000000176 * Math.cos(5.47433094670 + 13465.5424810178 * t);
-        X0 += 0.00000000174 * Math.cos(6.12894045783 + 10096.6188786667 * t);
-        X0 += 0.00000000188 * Math.cos(5.50057971256 + 2574.8193622534 * t);
-        X0 += 0.00000000175 * Math.cos(0.98299291721 + 12299.544658261 * t);
-        X0 += 0.00000000182 * Math.cos(1.47732423248 + 4288.8077146014 * t);
-        X0 += 0.00000000177 * Math.cos(4.71143769968 + 12928.7379689224 * t);
-        X0 += 0.00000000177 * Math.cos(0.60448814179 + 2572.7636073512 * t);
-        X0 += 0.00000000210 * Math.cos(2.56022036127 + 6683.9763640106 * t);
-        X0 += 0.00000000175 * Math.cos(5.70361271383 + 6708.6264094964 * t);
-        X0 += 0.00000000174 * Math.cos(0.12435272208 + 3155.7625187296 * t);
-        X0 += 0.00000000169 * Math.cos(5.11813247600 + 6684.73071809641 * t);
-        X0 += 0.00000000192 * Math.cos(5.18570054646 + 11567.1912630782 * t);
-        X0 += 0.00000000169 * Math.cos(0.86571880031 + 6684.7652254008 * t);
-        X0 += 0.00000000207 * Math.cos(4.46904668742 + 10001.48196070061 * t);
-        X0 += 0.00000000206 * Math.cos(1.69988902403 + 187.9251477626 * t);
-        X0 += 0.00000000231 * Math.cos(4.69193654586 + 5351.7127631396 * t);
-        X0 += 0.00000000189 * Math.cos(1.06067161596 + 2783.5199055084 * t);
-        X0 += 0.00000000181 * Math.cos(0.45144430179 + 10191.4174632324 * t);
-        X0 += 0.00000000219 * Math.cos(5.87655805703 + 3070.482266629 * t);
-        X0 += 0.00000000177 * Math.cos(4.57332885856 + 2978.491289969 * t);
-        X0 += 0.00000000179 * Math.cos(3.71447292171 + 17232.7530985936 * t);
-        X0 += 0.00000000166 * Math.cos(5.04602150010 + 15121.102785216 * t);
-        X0 += 0.00000000168 * Math.cos(5.94252269393 + 1111.642245102 * t);
-        X0 += 0.00000000172 * Math.cos(0.69353998666 + 1505.28780909299 * t);
-        X0 += 0.00000000163 * Math.cos(0.28838717250 + 155.3530891314 * t);
-        X0 += 0.00000000184 * Math.cos(1.39958801864 + 12942.965062924 * t);
-        X0 += 0.00000000162 * Math.cos(1.97243550807 + 16695.94858649819 * t);
-        X0 += 0.00000000199 * Math.cos(5.68556412360 + 26084.0218062162 * t);
-        X0 += 0.00000000166 * Math.cos(5.66442389971 + 20995.3929664494 * t);
-        X0 += 0.00000000167 * Math.cos(1.96358825585 + 4775.7600884592 * t);
-        X0 += 0.00000000181 * Math.cos(2.15204829552 + 1368.660252845 * t);
-        X0 += 0.00000000200 * Math.cos(1.68720277112 + 3610.8098970734 * t);
-        X0 += 0.00000000188 * Math.cos(2.44893392701 + 2385.3709021002 * t);
-        X0 += 0.00000000180 * Math.cos(3.06688556020 + 3649.8907493556 * t);
-        X0 += 0.00000000168 * Math.cos(2.00209726633 + 6165.7609823066 * t);
-        X0 += 0.00000000201 * Math.cos(5.56223289068 + 3738.7441764558 * t);
-        X0 += 0.00000000168 * Math.cos(5.97126496813 + 27.4015560968 * t);
-        X0 += 0.00000000163 * Math.cos(0.09102774145 + 21393.5419698576 * t);
-        X0 += 0.00000000165 * Math.cos(5.18462129798 + 24491.4257925834 * t);
-        X0 += 0.00000000163 * Math.cos(1.72014467993 + 3345.8116178656 * t);
-        X0 += 0.00000000163 * Math.cos(1.26202958512 + 3335.413235534 * t);
-        X0 += 0.00000000161 * Math.cos(3.54247427777 + 272.6729573516 * t);
-        X0 += 0.00000000199 * Math.cos(2.40246756842 + 8006.1661939396 * t);
-        X0 += 0.00000000177 * Math.cos(1.96147391128 + 8322.5580635962 * t);
-        X0 += 0.00000000175 * Math.cos(1.20405833746 + 2757.6135153214 * t);
-        X0 += 0.00000000214 * Math.cos(3.94809439016 + 1385.8952763362 * t);
-        X0 += 0.00000000171 * Math.cos(1.64736764034 + 10011.2006147496 * t);
-        X0 += 0.00000000157 * Math.cos(6.04186245834 + 31172.650645983 * t);
-        X0 += 0.00000000198 * Math.cos(4.06378380988 + 4106.4054911462 * t);
-        X0 += 0.00000000163 * Math.cos(2.04239538779 + 13286.1836355236 * t);
-        X0 += 0.00000000155 * Math.cos(5.55637185637 + 8771.0070837986 * t);
-        X0 += 0.00000000151 * Math.cos(6.02667746519 + 15010.8964639966 * t);
-        X0 += 0.00000000159 * Math.cos(0.33316888782 + 4061.751657906 * t);
-        X0 += 0.00000000169 * Math.cos(6.19340718678 + 7064.1041319706 * t);
-        X0 += 0.00000000202 * Math.cos(4.07695393078 + 4253.1826703654 * t);
-        X0 += 0.00000000166 * Math.cos(0.77365213441 + 6719.3578890374 * t);
-        X0 += 0.00000000149 * Math.cos(1.16534241475 + 14577.1847261198 * t);
-        X0 += 0.00000000151 * Math.cos(5.90185701300 + 10228.0228285366 * t);
-        X0 += 0.00000000151 * Math.cos(2.82941538658 + 3525.46233467 * t);
-        X0 += 0.00000000149 * Math.cos(1.89551632354 + 3664.1178433572 * t);
-        X0 += 0.00000000196 * Math.cos(3.39234316905 + 3610.7425867706 * t);
-        X0 += 0.00000000167 * Math.cos(0.38551119237 + 1346.3442913098 * t);
-        X0 += 0.00000000166 * Math.cos(2.03194803269 + 5466.489834079 * t);
-        X0 += 0.00000000167 * Math.cos(2.89181496866 + 10288.4443218212 * t);
-        X0 += 0.00000000172 * Math.cos(5.39487275378 + 19617.07636932279 * t);
-        X0 += 0.00000000147 * Math.cos(2.18400664980 + 1898.3339642874 * t);
-        X0 += 0.00000000166 * Math.cos(2.73543927114 + 6908.7009861886 * t);
-        X0 += 0.00000000201 * Math.cos(1.30981921500 + 3738.7786837602 * t);
-        X0 += 0.00000000146 * Math.cos(0.62125880196 + 13369.56325380 * t);
-        X0 += 0.00000000170 * Math.cos(5.74209007670 + 6677.6844813984 * t);
-        X0 += 0.00000000147 * Math.cos(1.87608878363 + 9918.7445058808 * t);
-        X0 += 0.00000000159 * Math.cos(2.95197147470 + 3346.4696289994 * t);
-        X0 += 0.00000000159 * Math.cos(0.03020279035 + 3334.7552244002 * t);
-        X0 += 0.00000000143 * Math.cos(1.10166083747 + 13227.3846267638 * t);
-        X0 += 0.00000000164 * Math.cos(2.07109751188 + 2125.8100970764 * t);
-        X0 += 0.00000000189 * Math.cos(6.14146200362 + 10042.1925994982 * t);
-        X0 += 0.00000000153 * Math.cos(4.69199840126 + 3702.7335634306 * t);
-        X0 += 0.00000000168 * Math.cos(2.68821315216 + 10032.4739454492 * t);
-        X0 += 0.00000000151 * Math.cos(2.48880937989 + 1859.2030553546 * t);
-        X0 += 0.00000000163 * Math.cos(1.42062692665 + 2964.8466951296 * t);
-        X0 += 0.00000000179 * Math.cos(0.37975631677 + 2714.9422343874 * t);
-        X0 += 0.00000000179 * Math.cos(2.60241794828 + 3966.2826190122 * t);
-        X0 += 0.00000000140 * Math.cos(4.86451546343 + 18461.71521191579 * t);
-        X0 += 0.00000000183 * Math.cos(0.37676347949 + 6791.431174619 * t);
-        X0 += 0.00000000150 * Math.cos(5.20287301062 + 2922.1081038928 * t);
-        X0 += 0.00000000175 * Math.cos(5.42596524283 + 5220.1708014532 * t);
-        X0 += 0.00000000140 * Math.cos(5.79899062095 + 1538.240435978 * t);
-        X0 += 0.00000000146 * Math.cos(1.91278049103 + 2714.9872905026 * t);
-        X0 += 0.00000000165 * Math.cos(1.13934061346 + 7345.9808985296 * t);
-        X0 += 0.00000000191 * Math.cos(0.78696608877 + 3479.2006250842 * t);
-        X0 += 0.00000000191 * Math.cos(2.19520817629 + 3202.0242283154 * t);
-        X0 += 0.00000000143 * Math.cos(0.93308559393 + 9153.9036160218 * t);
-        X0 += 0.00000000139 * Math.cos(0.98177816584 + 4878.8528626778 * t);
-        X0 += 0.00000000160 * Math.cos(5.46927582744 + 3287.304480416 * t);
-        X0 += 0.00000000160 * Math.cos(3.79608374479 + 3393.9203729836 * t);
-        X0 += 0.00000000193 * Math.cos(0.22143365956 + 3031.334104044 * t);
-        X0 += 0.00000000150 * Math.cos(1.84793747625 + 3897.7049478912 * t);
-        X0 += 0.00000000182 * Math.cos(5.61872247851 + 27832.0382192832 * t);
-        X0 += 0.00000000144 * Math.cos(0.96134974857 + 3945.4621674046 * t);
-        X0 += 0.00000000170 * Math.cos(1.48967640102 + 6677.71898870279 * t);
-        X0 += 0.00000000141 * Math.cos(3.83742737291 + 6279.5527316424 * t);
-        X0 += 0.00000000155 * Math.cos(5.68213195490 + 25135.8265183146 * t);
-        X0 += 0.00000000136 * Math.cos(2.44961684409 + 12729.665967486 * t);
-        X0 += 0.00000000188 * Math.cos(0.01265622712 + 4686.95671800959 * t);
-        X0 += 0.00000000167 * Math.cos(5.28314283541 + 8336.7851575978 * t);
-        X0 += 0.00000000151 * Math.cos(3.22358745524 + 2281.2978068134 * t);
-        X0 += 0.00000000151 * Math.cos(6.20627936335 + 8962.522660213 * t);
-        X0 += 0.00000000159 * Math.cos(4.80713616496 + 8958.5231966471 * t);
-        X0 += 0.00000000168 * Math.cos(0.17015651337 + 4295.8539512994 * t);
-        X0 += 0.00000000133 * Math.cos(4.82759769594 + 21150.8133658836 * t);
-        X0 += 0.00000000159 * Math.cos(1.73650436212 + 8966.3875031733 * t);
-        X0 += 0.00000000151 * Math.cos(0.33159044302 + 8962.3880396074 * t);
-        X0 += 0.00000000151 * Math.cos(3.63208384209 + 2281.1631862078 * t);
-        X0 += 0.00000000137 * Math.cos(3.04837973833 + 6703.075682726 * t);
-        X0 += 0.00000000133 * Math.cos(6.26949704953 + 12171.5258149236 * t);
-        X0 += 0.00000000136 * Math.cos(5.59365849152 + 8695.8483081884 * t);
-        X0 += 0.00000000160 * Math.cos(2.63695807146 + 5401.4302807716 * t);
-        X0 += 0.00000000140 * Math.cos(0.39711511870 + 34554.8138636676 * t);
-        X0 += 0.00000000134 * Math.cos(4.28535760311 + 2472.6787626222 * t);
-        X0 += 0.00000000135 * Math.cos(5.15711417667 + 14481.205498902 * t);
-        X0 += 0.00000000130 * Math.cos(4.35532122087 + 529.6737114424 * t);
-        X0 += 0.00000000133 * Math.cos(6.07532283158 + 6624.326478464 * t);
-        X0 += 0.00000000148 * Math.cos(3.97691997672 + 7050.92466934 * t);
-        X0 += 0.00000000130 * Math.cos(4.65934301751 + 7593.7950970652 * t);
-        X0 += 0.00000000140 * Math.cos(1.69371671061 + 11456.9849418588 * t);
-        X0 += 0.00000000130 * Math.cos(0.10290754518 + 529.7082187468 * t);
-        X0 += 0.00000000143 * Math.cos(4.86125646505 + 10014.7910434014 * t);
-        X0 += 0.00000000154 * Math.cos(1.51195474378 + 5607.6158292088 * t);
-        X0 += 0.00000000143 * Math.cos(5.92681168953 + 3041.4860324306 * t);
-        X0 += 0.00000000158 * Math.cos(4.74267595754 + 6092.1600263914 * t);
-        X0 += 0.00000000134 * Math.cos(6.18223447403 + 2954.1927761276 * t);
-        X0 += 0.00000000145 * Math.cos(4.90616424565 + 8373.390522902 * t);
-        X0 += 0.00000000173 * Math.cos(6.07118204441 + 1086.783486286 * t);
-        X0 += 0.00000000137 * Math.cos(5.86596713113 + 6137.3067943034 * t);
-        X0 += 0.00000000167 * Math.cos(5.43777729955 + 107.6635239386 * t);
-        X0 += 0.00000000137 * Math.cos(5.46263047000 + 14580.7751547716 * t);
-        X0 += 0.00000000130 * Math.cos(2.37764705674 + 4108.4612460484 * t);
-        X0 += 0.00000000144 * Math.cos(0.85144131454 + 1802.3719907218 * t);
-        X0 += 0.00000000132 * Math.cos(2.61918637671 + 4782.87363546 * t);
-        X0 += 0.00000000123 * Math.cos(3.36083480955 + 29424.634232916 * t);
-        X0 += 0.00000000126 * Math.cos(1.85449654763 + 18447.48811791419 * t);
-        X0 += 0.00000000127 * Math.cos(1.92093733385 + 4447.7512323846 * t);
-        X0 += 0.00000000141 * Math.cos(1.56398014110 + 3716.37815827 * t);
-        X0 += 0.00000000124 * Math.cos(3.53492874819 + 6687.9085172737 * t);
-        X0 += 0.00000000121 * Math.cos(0.01062042066 + 3090.7079659576 * t);
-        X0 += 0.00000000121 * Math.cos(2.97155384439 + 3590.516887442 * t);
-        X0 += 0.00000000122 * Math.cos(1.08221642068 + 2257.3520587628 * t);
-        X0 += 0.00000000123 * Math.cos(4.43212874956 + 6710.6543619356 * t);
-        X0 += 0.00000000122 * Math.cos(3.26594164721 + 1236.075660323 * t);
-        X0 += 0.00000000166 * Math.cos(5.13636005426 + 6553.2060100622 * t);
-        X0 += 0.00000000143 * Math.cos(2.33674585334 + 20206.141196331 * t);
-        X0 += 0.00000000157 * Math.cos(0.56952639012 + 8584.6616659008 * t);
-        X0 += 0.00000000128 * Math.cos(0.66575049629 + 3600.1732317236 * t);
-        X0 += 0.00000000128 * Math.cos(2.31642376876 + 3081.051621676 * t);
-        X0 += 0.00000000119 * Math.cos(0.92051706257 + 23937.856389741 * t);
-        X0 += 0.00000000127 * Math.cos(4.06247504712 + 3759.1167495068 * t);
-        X0 += 0.00000000143 * Math.cos(1.09974278396 + 2228.9701815978 * t);
-        X0 += 0.00000000152 * Math.cos(5.09265509081 + 3340.6469340042 * t);
-        X0 += 0.00000000152 * Math.cos(1.03111182783 + 3340.5779193954 * t);
-        X0 += 0.00000000126 * Math.cos(0.88452034949 + 12406.1605508286 * t);
-        X0 += 0.00000000140 * Math.cos(1.36708586192 + 2233.473621015 * t);
-        X0 += 0.00000000137 * Math.cos(4.79264710956 + 14587.8213914696 * t);
-        X0 += 0.00000000118 * Math.cos(4.24522226402 + 7534.4212351516 * t);
-        X0 += 0.00000000150 * Math.cos(5.98252134963 + 8446.9914788172 * t);
-        X0 += 0.00000000116 * Math.cos(0.31023473755 + 10338.229149756 * t);
-        X0 += 0.00000000126 * Math.cos(5.72234812550 + 4083.6024872324 * t);
-        X0 += 0.00000000116 * Math.cos(3.21277912522 + 721.1392312062 * t);
-        X0 += 0.00000000133 * Math.cos(1.77116481582 + 3923.6113380782 * t);
-        X0 += 0.00000000125 * Math.cos(0.79695675334 + 9124.9219860424 * t);
-        X0 += 0.00000000134 * Math.cos(0.59423378961 + 6659.3740240732 * t);
-        X0 += 0.00000000133 * Math.cos(2.32347788867 + 6147.6017350419 * t);
-        X0 += 0.00000000118 * Math.cos(5.14268766839 + 19676.4502312364 * t);
-        X0 += 0.00000000114 * Math.cos(3.36563651789 + 6534.413166876 * t);
-        X0 += 0.00000000119 * Math.cos(2.45421610326 + 1471.7530270636 * t);
-        X0 += 0.00000000112 * Math.cos(5.63276223022 + 1353.3905280078 * t);
-        X0 += 0.00000000118 * Math.cos(2.59721745181 + 2185.2512692928 * t);
-        X0 += 0.00000000139 * Math.cos(2.53675571989 + 14867.73751589219 * t);
-        X0 += 0.00000000116 * Math.cos(3.08292987464 + 3727.032077272 * t);
-        X0 += 0.00000000112 * Math.cos(1.08140723902 + 6474.524116103 * t);
-        X0 += 0.00000000111 * Math.cos(5.09669528080 + 7277.4032274086 * t);
-        X0 += 0.00000000111 * Math.cos(5.06172588434 + 6837.625573902 * t);
-        X0 += 0.00000000122 * Math.cos(0.61324340709 + 9161.5273513466 * t);
-        X0 += 0.00000000114 * Math.cos(1.06936801122 + 3966.237562897 * t);
-        X0 += 0.00000000108 * Math.cos(4.40272597236 + 27490.6924780448 * t);
-        X0 += 0.00000000129 * Math.cos(4.66656206914 + 3101.4069410748 * t);
-        X0 += 0.00000000129 * Math.cos(4.59879750310 + 3579.8179123248 * t);
-        X0 += 0.00000000133 * Math.cos(3.86628532692 + 6738.1232283352 * t);
-        X0 += 0.00000000143 * Math.cos(5.51260292487 + 10787.6303445458 * t);
-        X0 += 0.00000000146 * Math.cos(3.29717245103 + 3282.733730696 * t);
-        X0 += 0.00000000146 * Math.cos(5.96818712120 + 3398.4911227036 * t);
-        X0 += 0.00000000115 * Math.cos(4.70981861448 + 2501.6431389494 * t);
-        X0 += 0.00000000130 * Math.cos(5.51494242208 + 6155.4660415681 * t);
-        X0 += 0.00000000138 * Math.cos(0.53531085594 + 604.8497407048 * t);
-        X0 += 0.00000000115 * Math.cos(4.54726805499 + 8976.6824439118 * t);
-        X0 += 0.00000000105 * Math.cos(5.41363141342 + 17821.81792560179 * t);
-        X0 += 0.00000000104 * Math.cos(3.25094284849 + 550.0462844934 * t);
-        X0 += 0.00000000137 * Math.cos(1.64829531963 + 10.6366653498 * t);
-        X0 += 0.00000000103 * Math.cos(0.09569085161 + 31214.2014369678 * t);
-        X0 += 0.00000000103 * Math.cos(0.32444738176 + 1059.3146198864 * t);
-        X0 += 0.00000000116 * Math.cos(2.76497516745 + 21000.9158907568 * t);
-        X0 += 0.00000000124 * Math.cos(2.96682510796 + 2089.782230399 * t);
-        X0 += 0.00000000107 * Math.cos(3.74825241556 + 7075.8507384588 * t);
-        X0 += 0.00000000109 * Math.cos(0.75405687887 + 27433.88921587499 * t);
-        X0 += 0.00000000115 * Math.cos(3.05294273666 + 7768.0083396856 * t);
-        X0 += 0.00000000106 * Math.cos(1.35498268917 + 338.242698983 * t);
-        X0 += 0.00000000105 * Math.cos(5.49367983392 + 6961.011357752 * t);
-        X0 += 0.00000000129 * Math.cos(3.76517296403 + 3719.98584057399 * t);
-        X0 += 0.00000000129 * Math.cos(5.50018660820 + 2961.2390128256 * t);
-        X0 += 0.00000000122 * Math.cos(2.69389010184 + 27676.617819849 * t);
-        X0 += 0.00000000137 * Math.cos(4.29317120368 + 765.7930644464 * t);
-        X0 += 0.00000000103 * Math.cos(2.94392199086 + 369.6998159404 * t);
-        X0 += 0.00000000115 * Math.cos(6.24138664661 + 2631.6226244232 * t);
-        X0 += 0.00000000104 * Math.cos(6.26045969928 + 31449.8270427518 * t);
-        X0 += 0.00000000103 * Math.cos(5.98380934531 + 4953.5637597314 * t);
-        X0 += 0.00000000119 * Math.cos(0.25257145975 + 5813.291189322 * t);
-        X0 += 0.00000000127 * Math.cos(5.95846705295 + 2655.501062171 * t);
-        X0 += 0.00000000101 * Math.cos(4.76347332672 + 21791.69097326579 * t);
-        X0 += 0.00000000138 * Math.cos(4.81087367911 + 3480.3105662226 * t);
-        X0 += 0.00000000138 * Math.cos(4.45448589312 + 3200.914287177 * t);
-        X0 += 0.00000000100 * Math.cos(4.46306796510 + 101011.00013959699 * t);
-        X0 += 0.00000000109 * Math.cos(5.70820863859 + 249.9044607422 * t);
-        X0 += 0.00000000100 * Math.cos(2.36720288529 + 2651.977943822 * t);
-        X0 += 0.00000000112 * Math.cos(0.61908290347 + 4825.544916394 * t);
-        X0 += 0.00000000106 * Math.cos(2.47924429864 + 7899.550301372 * t);
-        X0 += 0.00000000100 * Math.cos(0.73142842806 + 3340.6969906548 * t);
-        X0 += 0.00000000100 * Math.cos(5.39233849058 + 3340.52786274481 * t);
-        X0 += 0.00000000099 * Math.cos(1.07037429534 + 5312.5646005546 * t);
-        X0 += 0.00000000110 * Math.cos(4.66774204357 + 4179.5817144502 * t);
-        X0 += 0.00000000119 * Math.cos(4.24896124568 + 128.0188433374 * t);
-        X0 += 0.00000000096 * Math.cos(1.41805272608 + 34363.365597556 * t);
-        X0 += 0.00000000095 * Math.cos(4.69553914772 + 3370.49447031 * t);
-        X0 += 0.00000000095 * Math.cos(4.56982042451 + 3310.7303830896 * t);
-        X0 += 0.00000000100 * Math.cos(5.36079056084 + 1755.4716846791 * t);
-        X0 += 0.00000000100 * Math.cos(1.13992481490 + 3340.5623700492 * t);
-        X0 += 0.00000000100 * Math.cos(4.98384210374 + 3340.6624833504 * t);
-        X0 += 0.00000000095 * Math.cos(2.49148312191 + 1125.8693391036 * t);
-        X0 += 0.00000000098 * Math.cos(2.55075465694 + 1784.0442797444 * t);
-        X0 += 0.00000000129 * Math.cos(4.50550938612 + 4591.4426230006 * t);
-        X0 += 0.00000000115 * Math.cos(1.84342023983 + 948.1952879016 * t);
-        X0 += 0.00000000102 * Math.cos(4.70490616658 + 2214.7430875962 * t);
-        X0 += 0.00000000125 * Math.cos(3.41500530183 + 30227.9784764304 * t);
-        X0 += 0.00000000092 * Math.cos(3.28339883365 + 1382.8873468466 * t);
-        X0 += 0.00000000096 * Math.cos(3.69113463475 + 158.9435177832 * t);
-        X0 += 0.00000000096 * Math.cos(5.28632356883 + 16975.7350908506 * t);
-        X0 += 0.00000000117 * Math.cos(4.34728892724 + 6342.9821544166 * t);
-        X0 += 0.00000000101 * Math.cos(4.05180649175 + 309.2783226558 * t);
-        X0 += 0.00000000118 * Math.cos(2.30281760984 + 3337.6434812832 * t);
-        X0 += 0.00000000118 * Math.cos(0.67935665521 + 3343.5813721164 * t);
-        X0 += 0.00000000104 * Math.cos(1.87017877120 + 1971.9521738548 * t);
-        X0 += 0.00000000105 * Math.cos(5.51085323879 + 42388.934936307 * t);
-        X0 += 0.00000000118 * Math.cos(0.33308541328 + 2523.9591004846 * t);
-        X0 += 0.00000000102 * Math.cos(5.06423665932 + 27946.7479799198 * t);
-        X0 += 0.00000000092 * Math.cos(0.37931448032 + 24093.2767891752 * t);
-        X0 += 0.00000000103 * Math.cos(4.21389346910 + 20235.1228263104 * t);
-        X0 += 0.00000000106 * Math.cos(0.48409497986 + 8219.4652893776 * t);
-        X0 += 0.00000000092 * Math.cos(1.93921425261 + 6953.8978107512 * t);
-        X0 += 0.00000000118 * Math.cos(5.64764411450 + 3396.995612776 * t);
-        X0 += 0.00000000118 * Math.cos(3.61771545773 + 3284.2292406236 * t);
-        X0 += 0.00000000093 * Math.cos(1.77160363006 + 11506.7697697936 * t);
-        X0 += 0.00000000094 * Math.cos(3.17734400558 + 1957.7250798532 * t);
-        X0 += 0.00000000092 * Math.cos(1.60745438369 + 34115.1140692746 * t);
-        X0 += 0.00000000106 * Math.cos(3.67532877346 + 10177.1903692308 * t);
-        X0 += 0.00000000104 * Math.cos(0.07874415195 + 3149.1814142404 * t);
-        X0 += 0.00000000093 * Math.cos(4.56692119429 + 18617.0683010472 * t);
-        X0 += 0.00000000091 * Math.cos(5.75237351963 + 3532.0434391592 * t);
-        X0 += 0.00000000094 * Math.cos(3.91461919551 + 3346.7456526324 * t);
-        X0 += 0.00000000094 * Math.cos(5.35074037672 + 3334.4792007672 * t);
-        X0 += 0.00000000090 * Math.cos(0.96686807913 + 15746.7729775284 * t);
-        X0 += 0.00000000091 * Math.cos(2.71684236561 + 50818.1762027736 * t);
-        X0 += 0.00000000096 * Math.cos(1.92198734613 + 10927.2939767642 * t);
-        X0 += 0.00000000092 * Math.cos(0.87242130441 + 50021.8781959572 * t);
-        X0 += 0.00000000110 * Math.cos(4.01385678858 + 27417.0570148252 * t);
-        X0 += 0.00000000087 * Math.cos(0.20554759562 + 625.6701923124 * t);
-        X0 += 0.00000000105 * Math.cos(5.13785519094 + 440.8252848776 * t);
-        X0 += 0.00000000103 * Math.cos(6.19913630210 + 1059.449240492 * t);
-        X0 += 0.00000000089 * Math.cos(2.21598103655 + 3368.08129309939 * t);
-        X0 += 0.00000000089 * Math.cos(0.76619322850 + 3313.1435603002 * t);
-        X0 += 0.00000000092 * Math.cos(1.76294266344 + 32509.208972941 * t);
-        X0 += 0.00000000107 * Math.cos(0.77642458908 + 4822.021798045 * t);
-        X0 += 0.00000000086 * Math.cos(2.15668825323 + 24336.0053931492 * t);
-        X0 += 0.00000000091 * Math.cos(1.49995984394 + 3532.0779464636 * t);
-        X0 += 0.00000000114 * Math.cos(1.17888998162 + 30774.5016425748 * t);
-        X0 += 0.00000000095 * Math.cos(2.41544015495 + 529.6236547918 * t);
-        X0 += 0.00000000120 * Math.cos(1.39317335094 + 3202.0949298291 * t);
-        X0 += 0.00000000120 * Math.cos(1.58900091411 + 3479.1299235705 * t);
-        X0 += 0.00000000086 * Math.cos(0.63892610093 + 3762.6398678558 * t);
-        X0 += 0.00000000086 * Math.cos(2.34324816413 + 2918.5849855438 * t);
-        X0 += 0.00000000099 * Math.cos(5.63933737649 + 3222.7996238078 * t);
-        X0 += 0.00000000099 * Math.cos(3.62602219574 + 3458.4252295918 * t);
-        X0 += 0.00000000089 * Math.cos(3.31658981903 + 22531.09060514659 * t);
-        X0 += 0.00000000107 * Math.cos(4.00303304883 + 3369.5940566792 * t);
-        X0 += 0.00000000107 * Math.cos(5.26232652340 + 3311.6307967204 * t);
-        X0 += 0.00000000090 * Math.cos(4.95208405657 + 4670.1245169598 * t);
-        X0 += 0.00000000094 * Math.cos(3.52537110144 + 796.2807531642 * t);
-        X0 += 0.00000000085 * Math.cos(4.38854271531 + 809.477469447 * t);
-        X0 += 0.00000000086 * Math.cos(2.16630383215 + 987.746272928 * t);
-        X0 += 0.00000000084 * Math.cos(4.57392791210 + 4777.7880408984 * t);
-        X0 += 0.00000000084 * Math.cos(2.18560642641 + 1107.1388056848 * t);
-        X0 += 0.00000000104 * Math.cos(4.33115782764 + 3149.146906936 * t);
-        X0 += 0.00000000116 * Math.cos(0.77977053917 + 14694.50459434 * t);
-        X0 += 0.00000000086 * Math.cos(1.37558388975 + 12410.7313005486 * t);
-        X0 += 0.00000000085 * Math.cos(2.86994886436 + 1619.9975697296 * t);
-        X0 += 0.00000000109 * Math.cos(5.59836287202 + 10610.9021071076 * t);
-        X0 += 0.00000000089 * Math.cos(1.46102468066 + 3332.9386347244 * t);
-        X0 += 0.00000000089 * Math.cos(1.52114958439 + 3348.2862186752 * t);
-        X0 += 0.00000000084 * Math.cos(1.33406969455 + 1552.4675299796 * t);
-        X0 += 0.00000000099 * Math.cos(4.61468010668 + 24606.13555322 * t);
-        X0 += 0.00000000084 * Math.cos(2.49883491772 + 2942.5307335944 * t);
-        X0 += 0.00000000112 * Math.cos(3.24631234908 + 14900.6901427772 * t);
-        X0 += 0.00000000082 * Math.cos(0.76471194062 + 3330.0430716528 * t);
-        X0 += 0.00000000082 * Math.cos(2.21746232443 + 3351.1817817468 * t);
-        X0 += 0.00000000082 * Math.cos(2.15560831176 + 22317.79150970859 * t);
-        X0 += 0.00000000089 * Math.cos(5.02414670070 + 5355.2358814886 * t);
-        X0 += 0.00000000084 * Math.cos(4.48618455018 + 3083.5944189568 * t);
-        X0 += 0.00000000084 * Math.cos(4.77917502205 + 3597.6304344428 * t);
-        X0 += 0.00000000093 * Math.cos(1.35537122244 + 8948.2282559086 * t);
-        X0 += 0.00000000095 * Math.cos(2.00694376811 + 529.7582753974 * t);
-        X0 += 0.00000000085 * Math.cos(0.15626665144 + 1055.8588118402 * t);
-        X0 += 0.00000000099 * Math.cos(1.87280470738 + 7906.59653807 * t);
-        X0 += 0.00000000114 * Math.cos(2.85738890734 + 3063.5774329584 * t);
-        X0 += 0.00000000114 * Math.cos(0.12478535771 + 3617.6474204412 * t);
-        X0 += 0.00000000090 * Math.cos(2.28313612434 + 51769.8946090242 * t);
-        X0 += 0.00000000085 * Math.cos(4.25324733609 + 54789.936689978 * t);
-        X0 += 0.00000000086 * Math.cos(4.98727225433 + 23009.94911093539 * t);
-        X0 += 0.00000000083 * Math.cos(3.80459099750 + 20103.0484221124 * t);
-        X0 += 0.00000000112 * Math.cos(5.31873185789 + 5295.3295770634 * t);
-        X0 += 0.00000000083 * Math.cos(0.55564877844 + 4029.2469095776 * t);
-        X0 += 0.00000000080 * Math.cos(4.41455828078 + 31570.7996493912 * t);
-        X0 += 0.00000000081 * Math.cos(0.73729790566 + 3190.714951573 * t);
-        X0 += 0.00000000081 * Math.cos(2.24487635939 + 3490.5099018266 * t);
-        X0 += 0.00000000096 * Math.cos(0.23027300186 + 2544.2971662312 * t);
-        X0 += 0.00000000094 * Math.cos(5.55614273293 + 796.3152604686 * t);
-        X0 += 0.00000000089 * Math.cos(5.72126604208 + 6311.5250374592 * t);
-        X0 += 0.00000000085 * Math.cos(0.12415625823 + 14715.840234807 * t);
-        X0 += 0.00000000102 * Math.cos(3.18943570469 + 3524.48201360179 * t);
-        X0 += 0.00000000102 * Math.cos(6.07592386754 + 3156.7428397978 * t);
-        X0 += 0.00000000086 * Math.cos(2.62365837929 + 13517.8027959306 * t);
-        X0 += 0.00000000084 * Math.cos(2.90733130456 + 2942.3961129888 * t);
-        X0 += 0.00000000084 * Math.cos(4.30297087103 + 4801.6664786462 * t);
-        X0 += 0.00000000079 * Math.cos(1.89987880078 + 4423.8727946368 * t);
-        X0 += 0.00000000082 * Math.cos(5.55317357688 + 30220.9322397324 * t);
-        X0 += 0.00000000081 * Math.cos(5.91225789047 + 3347.7432273528 * t);
-        X0 += 0.00000000081 * Math.cos(3.35310168176 + 3333.4816260468 * t);
-        X0 += 0.00000000079 * Math.cos(3.64160078421 + 48031.1331789162 * t);
-        X0 += 0.00000000083 * Math.cos(2.90263435553 + 4049.6022289764 * t);
-        X0 += 0.00000000078 * Math.cos(2.79442861443 + 26880.3198130326 * t);
-        X0 += 0.00000000079 * Math.cos(2.59415665911 + 12988.111830836 * t);
-        X0 += 0.00000000096 * Math.cos(1.52859112434 + 3357.44462774959 * t);
-        X0 += 0.00000000096 * Math.cos(1.45358314071 + 3323.78022565 * t);
-        X0 += 0.00000000082 * Math.cos(0.22380005807 + 34513.2630726828 * t);
-        X0 += 0.00000000098 * Math.cos(3.60718231268 + 73.297125859 * t);
-        X0 += 0.00000000090 * Math.cos(5.64133979375 + 18028.00347403899 * t);
-        X0 += 0.00000000081 * Math.cos(0.56197619487 + 4782.8908891122 * t);
-        X0 += 0.00000000099 * Math.cos(3.66942611129 + 3305.004636116 * t);
-        X0 += 0.00000000099 * Math.cos(5.59593346094 + 3376.2202172836 * t);
-        X0 += 0.00000000086 * Math.cos(5.18309238309 + 3385.26625994 * t);
-        X0 += 0.00000000086 * Math.cos(4.08226718914 + 3295.9585934596 * t);
-        X0 += 0.00000000085 * Math.cos(2.64526952459 + 3193.8179938284 * t);
-        X0 += 0.00000000085 * Math.cos(0.33690474046 + 3487.4068595712 * t);
-        X0 += 0.00000000088 * Math.cos(1.84612419080 + 2751.01515718 * t);
-        X0 += 0.00000000097 * Math.cos(3.30686127011 + 4025.7237912286 * t);
-        X0 += 0.00000000077 * Math.cos(2.27576479149 + 430.5303441391 * t);
-        X0 += 0.00000000090 * Math.cos(2.83612444399 + 16066.0658614748 * t);
-        X0 += 0.00000000079 * Math.cos(5.30911625997 + 1593.0050485469 * t);
-        X0 += 0.00000000103 * Math.cos(4.98287803658 + 6777.2040806174 * t);
-        X0 += 0.00000000100 * Math.cos(1.06470463453 + 1481.4093713452 * t);
-        X0 += 0.00000000080 * Math.cos(4.95285652438 + 1954.7171503636 * t);
-        X0 += 0.00000000100 * Math.cos(1.74953521165 + 10817.0876555448 * t);
-        X0 += 0.00000000075 * Math.cos(2.02401548869 + 14797.5973685586 * t);
-        X0 += 0.00000000095 * Math.cos(4.35812039823 + 17810.2009391838 * t);
-        X0 += 0.00000000076 * Math.cos(1.17170827309 + 11663.170490296 * t);
-        X0 += 0.00000000081 * Math.cos(0.45815752842 + 3404.3483250032 * t);
-        X0 += 0.00000000081 * Math.cos(2.52401673663 + 3276.8765283964 * t);
-        X0 += 0.00000000084 * Math.cos(1.04007729585 + 45331.3983595986 * t);
-        X0 += 0.00000000096 * Math.cos(2.26104463335 + 2544.3316735356 * t);
-        X0 += 0.00000000074 * Math.cos(2.66639632955 + 7476.475228845 * t);
-        X0 += 0.00000000078 * Math.cos(5.92206943670 + 8830.9133882238 * t);
-        X0 += 0.00000000090 * Math.cos(1.59039392369 + 1747.6073781529 * t);
-        X0 += 0.00000000077 * Math.cos(5.30979717297 + 1324.94134054 * t);
-        X0 += 0.00000000096 * Math.cos(0.61229196319 + 52168.0436124324 * t);
-        X0 += 0.00000000076 * Math.cos(3.90090979569 + 21957.680727747 * t);
-        X0 += 0.00000000073 * Math.cos(0.73049271630 + 31979.5180078464 * t);
-        X0 += 0.00000000097 * Math.cos(3.07852061878 + 8692.3251898394 * t);
-        X0 += 0.00000000087 * Math.cos(5.83290257662 + 15117.5123565642 * t);
-        X0 += 0.00000000077 * Math.cos(5.61830611535 + 1008.5494708834 * t);
-        X0 += 0.00000000077 * Math.cos(0.40573840944 + 4246.0691233646 * t);
-        X0 += 0.00000000073 * Math.cos(5.81590146580 + 927.8399685028 * t);
-        X0 += 0.00000000077 * Math.cos(4.93122298596 + 15423.267560871 * t);
-        X0 += 0.00000000080 * Math.cos(5.71635157879 + 14061.7208550268 * t);
-        X0 += 0.00000000081 * Math.cos(5.67561104642 + 2917.5373541728 * t);
-        X0 += 0.00000000081 * Math.cos(0.08793933080 + 2910.4911174748 * t);
-        X0 += 0.00000000073 * Math.cos(4.57978609101 + 6809.243696737 * t);
-        X0 += 0.00000000075 * Math.cos(1.81129653704 + 1214.8023296234 * t);
-        X0 += 0.00000000075 * Math.cos(0.61176191784 + 9090.4741932476 * t);
-        X0 += 0.00000000073 * Math.cos(0.80597242147 + 11869.3560387332 * t);
-        X0 += 0.00000000080 * Math.cos(3.70920090221 + 6151.6011986078 * t);
-        X0 += 0.00000000075 * Math.cos(1.65852801071 + 81604.32185142238 * t);
-        X0 += 0.00000000074 * Math.cos(5.38130777540 + 13635.1226641508 * t);
-        X0 += 0.00000000074 * Math.cos(5.57898561678 + 6603.4743094157 * t);
-        X0 += 0.00000000081 * Math.cos(2.95396697245 + 19573.3574570178 * t);
-        X0 += 0.00000000071 * Math.cos(5.88002334509 + 23539.64007603 * t);
-        X0 += 0.00000000071 * Math.cos(5.78949232966 + 5621.9102335132 * t);
-        X0 += 0.00000000072 * Math.cos(5.69738078893 + 15276.4558743474 * t);
-        X0 += 0.00000000090 * Math.cos(5.68707820006 + 24532.9765835682 * t);
-        X0 += 0.00000000071 * Math.cos(5.95708932737 + 12140.6011404778 * t);
-        X0 += 0.00000000070 * Math.cos(2.42585934882 + 9384.8410080752 * t);
-        X0 += 0.00000000070 * Math.cos(5.87974112761 + 11247.2089647698 * t);
-        X0 += 0.00000000070 * Math.cos(4.73224956394 + 13951.5145338074 * t);
-        X0 += 0.00000000073 * Math.cos(2.21781912263 + 6493.29970563701 * t);
-        X0 += 0.00000000073 * Math.cos(0.63102381616 + 8436.2875031646 * t);
-        X0 += 0.00000000069 * Math.cos(3.01335847360 + 87.30820453981 * t);
-        X0 += 0.00000000073 * Math.cos(2.55548238966 + 30376.3526391666 * t);
-        X0 += 0.00000000095 * Math.cos(3.88412225460 + 2104.5367663768 * t);
-        X0 += 0.00000000076 * Math.cos(3.36100516133 + 3412.6681600546 * t);
-        X0 += 0.00000000076 * Math.cos(5.90435441090 + 3268.556693345 * t);
-        X0 += 0.00000000069 * Math.cos(1.97228484166 + 5784.3095593426 * t);
-        X0 += 0.00000000069 * Math.cos(1.90292001356 + 8186.5126624926 * t);
-        X0 += 0.00000000069 * Math.cos(4.22597683091 + 21272.63667352099 * t);
-        X0 += 0.00000000071 * Math.cos(1.81846746129 + 58857.03113654799 * t);
-        X0 += 0.00000000085 * Math.cos(4.60013473538 + 19403.7772738848 * t);
-        X0 += 0.00000000075 * Math.cos(4.81999758491 + 32367.0976562076 * t);
-        X0 += 0.00000000080 * Math.cos(4.11769728905 + 6151.4665780022 * t);
-        X0 += 0.00000000076 * Math.cos(0.98386664138 + 4555.4147563232 * t);
-        X0 += 0.00000000069 * Math.cos(4.69940432303 + 942.062061969 * t);
-        X0 += 0.00000000090 * Math.cos(4.89984825456 + 30639.856638633 * t);
-        X0 += 0.00000000085 * Math.cos(4.39582684427 + 45494.58142974879 * t);
-        X0 += 0.00000000077 * Math.cos(4.08497278156 + 78263.70942472259 * t);
-        X0 += 0.00000000068 * Math.cos(0.82765945114 + 8550.0842530358 * t);
-        X0 += 0.00000000078 * Math.cos(5.32457391220 + 422.6660376129 * t);
-        X0 += 0.00000000073 * Math.cos(2.88235398454 + 36105.8590863156 * t);
-        X0 += 0.00000000069 * Math.cos(4.04053899301 + 8027.5691447094 * t);
-        X0 += 0.00000000070 * Math.cos(1.18585479439 + 2332.0629558164 * t);
-        X0 += 0.00000000068 * Math.cos(2.31090852687 + 8528.7436120334 * t);
-        X0 += 0.00000000071 * Math.cos(2.15201156573 + 3371.6044114484 * t);
-        X0 += 0.00000000071 * Math.cos(0.83016269932 + 3309.6204419512 * t);
-        X0 += 0.00000000080 * Math.cos(4.96962009674 + 9705.4454104428 * t);
-        X0 += 0.00000000070 * Math.cos(2.49836750115 + 7843.6995578074 * t);
-        X0 += 0.00000000081 * Math.cos(0.76982949413 + 94329.77528619739 * t);
-        X0 += 0.00000000070 * Math.cos(1.78964854428 + 4349.1618975832 * t);
-        X0 += 0.00000000067 * Math.cos(5.57564722758 + 6112.4029793722 * t);
-        X0 += 0.00000000075 * Math.cos(1.66067383778 + 1585.1407420207 * t);
-        X0 += 0.00000000086 * Math.cos(0.25993921458 + 1612.9513330316 * t);
-        X0 += 0.00000000069 * Math.cos(2.60354177981 + 23553.8671700316 * t);
-        X0 += 0.00000000067 * Math.cos(2.43147442233 + 12725.453434775 * t);
-        X0 += 0.00000000072 * Math.cos(2.10386446161 + 3414.2478899194 * t);
-        X0 += 0.00000000072 * Math.cos(0.87830980344 + 3266.9769634802 * t);
-        X0 += 0.00000000069 * Math.cos(1.73288066444 + 3186.6871931754 * t);
-        X0 += 0.00000000069 * Math.cos(1.24929360061 + 3494.5376602242 * t);
-        X0 += 0.00000000075 * Math.cos(3.68220130840 + 6836.577942531 * t);
-        X0 += 0.00000000090 * Math.cos(2.44476191858 + 11527.1250891924 * t);
-        X0 += 0.00000000093 * Math.cos(3.60055995845 + 1826.3211299833 * t);
-        X0 += 0.00000000085 * Math.cos(2.64904472347 + 4157.26575291499 * t);
-        X0 += 0.00000000093 * Math.cos(5.97228186454 + 12892.1326036182 * t);
-        X0 += 0.00000000067 * Math.cos(2.58897011211 + 290.4854794696 * t);
-        X0 += 0.00000000066 * Math.cos(3.87954800820 + 16056.05130018419 * t);
-        X0 += 0.00000000069 * Math.cos(1.31105511495 + 1442.2784624124 * t);
-        X0 += 0.00000000066 * Math.cos(2.06074554515 + 176.6937301338 * t);
-        X0 += 0.00000000066 * Math.cos(3.36264019921 + 225.8292684102 * t);
-        X0 += 0.00000000068 * Math.cos(0.42746649298 + 4897.1805736552 * t);
-        X0 += 0.00000000067 * Math.cos(3.86247375362 + 19247.3765533824 * t);
-        X0 += 0.00000000065 * Math.cos(5.43572139061 + 3357.3773174468 * t);
-        X0 += 0.00000000065 * Math.cos(3.82963818162 + 3323.8475359528 * t);
-        X0 += 0.00000000066 * Math.cos(0.93287145961 + 415.5524906121 * t);
-        X0 += 0.00000000066 * Math.cos(3.64027452312 + 3738.6941198052 * t);
-        X0 += 0.00000000065 * Math.cos(2.91177847342 + 26887.3660497306 * t);
-        X0 += 0.00000000090 * Math.cos(1.66801934841 + 2885.7030601725 * t);
-        X0 += 0.00000000090 * Math.cos(1.31415491664 + 3795.5217932271 * t);
-        X0 += 0.00000000067 * Math.cos(5.42902273412 + 13358.8592781474 * t);
-        X0 += 0.00000000081 * Math.cos(5.58966586907 + 5135.8708704208 * t);
-        X0 += 0.00000000064 * Math.cos(2.13841748430 + 27035.7402124668 * t);
-        X0 += 0.00000000076 * Math.cos(6.10249673727 + 6677.2927001365 * t);
-        X0 += 0.00000000064 * Math.cos(0.33226555661 + 6563.9049851794 * t);
-        X0 += 0.00000000067 * Math.cos(2.47085873457 + 1083.260367937 * t);
-        X0 += 0.00000000067 * Math.cos(0.73021872404 + 4396.47123854 * t);
-        X0 += 0.00000000064 * Math.cos(3.51821204431 + 41427.4869831788 * t);
-        X0 += 0.00000000066 * Math.cos(5.74570221704 + 3348.7805632822 * t);
-        X0 += 0.00000000066 * Math.cos(3.51965735519 + 3332.4442901174 * t);
-        X0 += 0.00000000068 * Math.cos(4.27282420496 + 589.5972695198 * t);
-        X0 += 0.00000000063 * Math.cos(4.22378481482 + 15003.7829169958 * t);
-        X0 += 0.00000000066 * Math.cos(4.39616063982 + 3377.6080173108 * t);
-        X0 += 0.00000000066 * Math.cos(4.86919893241 + 3303.6168360888 * t);
-        X0 += 0.00000000062 * Math.cos(0.97050370815 + 423.075072527 * t);
-        X0 += 0.00000000073 * Math.cos(1.49148217763 + 7250.046727427 * t);
-        X0 += 0.00000000066 * Math.cos(3.23177813628 + 3738.8287404108 * t);
-        X0 += 0.00000000065 * Math.cos(5.30587632700 + 3226.8829871314 * t);
-        X0 += 0.00000000065 * Math.cos(3.95948324523 + 3454.3418662682 * t);
-        X0 += 0.00000000069 * Math.cos(2.59633539559 + 5884.94410023539 * t);
-        X0 += 0.00000000079 * Math.cos(5.03199795222 + 49225.5801891408 * t);
-        X0 += 0.00000000072 * Math.cos(4.25964991616 + 68241.87214462319 * t);
-        X0 += 0.00000000082 * Math.cos(3.81994976939 + 6573.561329461 * t);
-        X0 += 0.00000000078 * Math.cos(5.28528678757 + 12979.553174576 * t);
-        X0 += 0.00000000078 * Math.cos(0.07000919983 + 17078.8278650692 * t);
-        X0 += 0.00000000063 * Math.cos(4.28938660682 + 379.3734138742 * t);
-        X0 += 0.00000000065 * Math.cos(3.40994727165 + 58704.8939150126 * t);
-        X0 += 0.00000000064 * Math.cos(1.22976149462 + 21258.40957951939 * t);
-        X0 += 0.00000000070 * Math.cos(3.51764772307 + 10397.6030116696 * t);
-        X0 += 0.00000000061 * Math.cos(5.82279175439 + 3870.2861381422 * t);
-        X0 += 0.00000000070 * Math.cos(4.41512641444 + 9175.7544453482 * t);
-        X0 += 0.00000000071 * Math.cos(3.28652650200 + 23296.97878235879 * t);
-        X0 += 0.00000000069 * Math.cos(2.31182487954 + 6757.4909246752 * t);
-        X0 += 0.00000000061 * Math.cos(1.57037807871 + 3870.3206454466 * t);
-        X0 += 0.00000000072 * Math.cos(1.51722213297 + 3343.5134409896 * t);
-        X0 += 0.00000000072 * Math.cos(1.46495213208 + 3337.71141241 * t);
-        X0 += 0.00000000081 * Math.cos(4.86026830133 + 17498.31250894439 * t);
-        X0 += 0.00000000062 * Math.cos(3.77246444412 + 628.8515860501 * t);
-        X0 += 0.00000000061 * Math.cos(5.70036546851 + 54314.2090289076 * t);
-        X0 += 0.00000000067 * Math.cos(0.68969222601 + 955.2415245996 * t);
-        X0 += 0.00000000062 * Math.cos(2.91999658715 + 2711.7608406497 * t);
-        X0 += 0.00000000062 * Math.cos(1.09464000200 + 13738.2154383694 * t);
-        X0 += 0.00000000071 * Math.cos(6.19798871650 + 5621.7756129076 * t);
-        X0 += 0.00000000065 * Math.cos(5.83189096626 + 38650.173506199 * t);
-        X0 += 0.00000000067 * Math.cos(1.57027663487 + 2899.7871418222 * t);
-        X0 += 0.00000000063 * Math.cos(2.13936684877 + 17660.303464057 * t);
-        X0 += 0.00000000059 * Math.cos(5.56221290270 + 14071.43950907579 * t);
-        X0 += 0.00000000073 * Math.cos(6.02852675275 + 6695.4519474012 * t);
-        X0 += 0.00000000059 * Math.cos(4.23500687923 + 7056.9905849698 * t);
-        X0 += 0.00000000067 * Math.cos(2.26422756461 + 50420.0271993654 * t);
-        X0 += 0.00000000059 * Math.cos(1.98957010625 + 14319.6910373572 * t);
-        X0 += 0.00000000069 * Math.cos(0.56556376410 + 5884.909592931 * t);
-        X0 += 0.00000000083 * Math.cos(4.24356262487 + 2636.9792420824 * t);
-        X0 += 0.00000000060 * Math.cos(4.15624789446 + 44535.1003527822 * t);
-        X0 += 0.00000000061 * Math.cos(3.73591863489 + 24076.4445881254 * t);
-        X0 += 0.00000000064 * Math.cos(1.17391999318 + 32522.5180556418 * t);
-        X0 += 0.00000000076 * Math.cos(4.51755928368 + 418.9243989006 * t);
-        X0 += 0.00000000065 * Math.cos(2.85546048584 + 48273.8617828902 * t);
-        X0 += 0.00000000058 * Math.cos(0.71565564537 + 29.4918183034 * t);
-        X0 += 0.00000000059 * Math.cos(5.68323628850 + 9978.1183677944 * t);
-        X0 += 0.00000000073 * Math.cos(0.26749667915 + 30831.3049047446 * t);
-        X0 += 0.00000000063 * Math.cos(2.63766816139 + 9722.7108858302 * t);
-        X0 += 0.00000000080 * Math.cos(3.23485617789 + 3377.2609896293 * t);
-        X0 += 0.00000000080 * Math.cos(6.03050339435 + 3303.9638637703 * t);
-        X0 += 0.00000000058 * Math.cos(0.73286492045 + 16070.2783941858 * t);
-        X0 += 0.00000000070 * Math.cos(4.06414188362 + 11787.603905517 * t);
-        X0 += 0.00000000057 * Math.cos(3.92277309891 + 27278.4688164408 * t);
-        X0 += 0.00000000057 * Math.cos(3.48535607735 + 37057.5774925662 * t);
-        X0 += 0.00000000062 * Math.cos(1.45925373057 + 38252.0245027908 * t);
-        X0 += 0.00000000062 * Math.cos(0.38427986095 + 437.6438911399 * t);
-        X0 += 0.00000000071 * Math.cos(2.87138479505 + 6486.253468939 * t);
-        X0 += 0.00000000057 * Math.cos(3.63114094155 + 3930.2096962196 * t);
-        X0 += 0.00000000074 * Math.cos(5.72909319934 + 3189.5647568569 * t);
-        X0 += 0.00000000058 * Math.cos(1.59816197403 + 4712.0241901558 * t);
-        X0 += 0.00000000058 * Math.cos(1.38401229102 + 1969.2006632438 * t);
-        X0 += 0.00000000064 * Math.cos(3.23303289058 + 5525.8636959926 * t);
-        X0 += 0.00000000059 * Math.cos(4.01427864314 + 22854.596021804 * t);
-        X0 += 0.00000000069 * Math.cos(0.29377457284 + 11240.1627280718 * t);
-        X0 += 0.00000000057 * Math.cos(2.42003042082 + 1022.776564885 * t);
-        X0 += 0.00000000074 * Math.cos(0.44861274444 + 3192.5337022735 * t);
-        X0 += 0.00000000060 * Math.cos(5.27775099292 + 3348.1911059094 * t);
-        X0 += 0.00000000060 * Math.cos(3.98760857931 + 3333.03374749019 * t);
-        X0 += 0.00000000055 * Math.cos(3.34525081447 + 3325.8751443742 * t);
-        X0 += 0.00000000055 * Math.cos(5.92010875776 + 3355.3497090254 * t);
-        X0 += 0.00000000057 * Math.cos(2.89244313085 + 15842.7522047462 * t);
-        X0 += 0.00000000055 * Math.cos(2.80680487032 + 4565.9841113702 * t);
-        X0 += 0.00000000055 * Math.cos(2.40063303030 + 11560.0777160774 * t);
-        X0 += 0.00000000063 * Math.cos(5.97432204184 + 4136.9276871684 * t);
-        X0 += 0.00000000055 * Math.cos(4.36076096626 + 21.8508293264 * t);
-        X0 += 0.00000000061 * Math.cos(6.18050944136 + 11037.5002979836 * t);
-        X0 += 0.00000000071 * Math.cos(4.62640656139 + 418.504322807 * t);
-        X0 += 0.00000000061 * Math.cos(5.32997938163 + 222.8603229936 * t);
-        X0 += 0.00000000073 * Math.cos(2.99831416680 + 33716.9650658664 * t);
-        X0 += 0.00000000062 * Math.cos(3.71439419421 + 22487.3716928416 * t);
-        X0 += 0.00000000055 * Math.cos(0.37443777882 + 25665.5174834092 * t);
-        X0 += 0.00000000061 * Math.cos(2.45880942377 + 7630.4004623694 * t);
-        X0 += 0.00000000061 * Math.cos(5.62643638872 + 1737.3124374144 * t);
-        X0 += 0.00000000067 * Math.cos(5.86396730577 + 13366.040135451 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 956 terms of order 1
-    {
-        double X1 = 0;
-        X1 -= 0.00861441374;
-        X1 += 0.00552437949 * Math.cos(5.09565872891 + 6681.2248533996 * t);
-        X1 += 0.00077184977 * Math.cos(5.43315636209 + 10021.8372800994 * t);
-        X1 += 0.00020467294 * Math.cos(5.57051812369 + 3340.6124266998 * t);
-        X1 += 0.00009589581 * Math.cos(5.77107234791 + 13362.4497067992 * t);
-        X1 += 0.00002620610 * Math.cos(6.22441295122 + 3344.1355450488 * t);
-        X1 += 0.00002620537 * Math.cos(3.04172154436 + 3337.0893083508 * t);
-        X1 += 0.00001163612 * Math.cos(6.10909257097 + 16703.062133499 * t);
-        X1 += 0.00000901178 * Math.cos(3.31585548194 + 1059.3819301892 * t);
-        X1 += 0.00000427058 * Math.cos(2.74008980166 + 2942.4634232916 * t);
-        X1 += 0.00000381428 * Math.cos(0.22342431378 + 3738.761430108 * t);
-        X1 += 0.00000386916 * Math.cos(5.94232552612 + 5621.8429232104 * t);
-        X1 += 0.00000395001 * Math.cos(0.20042939555 + 6684.7479717486 * t);
-        X1 += 0.00000337356 * Math.cos(5.21417361076 + 3149.1641605882 * t);
-        X1 += 0.00000334209 * Math.cos(2.45910275965 + 3185.1920272656 * t);
-        X1 += 0.00000318463 * Math.cos(4.05140251894 + 3532.0606928114 * t);
-        X1 += 0.00000318426 * Math.cos(0.52909208916 + 3496.032826134 * t);
-        X1 += 0.00000312605 * Math.cos(4.22912280613 + 2544.3144198834 * t);
-        X1 += 0.00000289251 * Math.cos(4.61759345454 + 796.2980068164 * t);
-        X1 += 0.00000260308 * Math.cos(5.02630754856 + 4136.9104335162 * t);
-        X1 += 0.00000206733 * Math.cos(3.21083229673 + 1194.4470102246 * t);
-        X1 += 0.00000140570 * Math.cos(0.16405101702 + 20043.6745601988 * t);
-        X1 += 0.00000159366 * Math.cos(3.57762977582 + 1589.0728952838 * t);
-        X1 += 0.00000133819 * Math.cos(4.64351814551 + 5884.9268465832 * t);
-        X1 += 0.00000132323 * Math.cos(3.70094513425 + 4399.994356889 * t);
-        X1 += 0.00000127123 * Math.cos(2.81806076447 + 6677.7017350506 * t);
-        X1 += 0.00000102796 * Math.cos(6.05672047566 + 5486.777843175 * t);
-        X1 += 0.00000112591 * Math.cos(5.89047647024 + 2146.1654164752 * t);
-        X1 += 0.00000129469 * Math.cos(1.80477637958 + 1592.5960136328 * t);
-        X1 += 0.00000101457 * Math.cos(3.72531913828 + 3341.592747768 * t);
-        X1 += 0.00000101429 * Math.cos(5.54115874275 + 3339.6321056316 * t);
-        X1 += 0.00000089231 * Math.cos(5.88265350957 + 3870.3033917944 * t);
-        X1 += 0.00000084359 * Math.cos(0.39861148409 + 1990.745017041 * t);
-        X1 += 0.00000079681 * Math.cos(3.91080385507 + 426.598190876 * t);
-        X1 += 0.00000077267 * Math.cos(0.64237838596 + 7079.3738568078 * t);
-        X1 += 0.00000081615 * Math.cos(5.65301248357 + 5092.1519581158 * t);
-        X1 += 0.00000064069 * Math.cos(5.27568100391 + 2388.8940204492 * t);
-        X1 += 0.00000057349 * Math.cos(0.50336630984 + 10025.3603984484 * t);
-        X1 += 0.00000057779 * Math.cos(1.95322424838 + 3097.88382272579 * t);
-        X1 += 0.00000075338 * Math.cos(1.25298511750 + 5088.6288397668 * t);
-        X1 += 0.00000075597 * Math.cos(3.61161529128 + 4535.0594369244 * t);
-        X1 += 0.00000057038 * Math.cos(2.69097269126 + 4690.4798363586 * t);
-        X1 += 0.00000058112 * Math.cos(0.40782428306 + 7.1135470008 * t);
-        X1 += 0.00000055693 * Math.cos(1.22100970149 + 9492.1463150048 * t);
-        X1 += 0.00000053020 * Math.cos(1.04990905431 + 3583.3410306738 * t);
-        X1 += 0.00000070673 * Math.cos(3.86820111874 + 2787.0430238574 * t);
-        X1 += 0.00000049103 * Math.cos(4.08361966579 + 4292.3308329504 * t);
-        X1 += 0.00000051266 * Math.cos(4.58705364976 + 191.4482661116 * t);
-        X1 += 0.00000054144 * Math.cos(2.75220168825 + 2957.7158944766 * t);
-        X1 += 0.00000060338 * Math.cos(5.44643531231 + 3894.1818295422 * t);
-        X1 += 0.00000060977 * Math.cos(1.33676776514 + 1748.016413067 * t);
-        X1 += 0.00000049313 * Math.cos(2.50941274343 + 6681.2075997474 * t);
-        X1 += 0.00000049853 * Math.cos(0.26909559157 + 3723.508958923 * t);
-        X1 += 0.00000049313 * Math.cos(4.54018424365 + 6681.2421070518 * t);
-        X1 += 0.00000056626 * Math.cos(1.06789339618 + 155.4203994342 * t);
-        X1 += 0.00000047447 * Math.cos(5.64332397974 + 6489.776587288 * t);
-        X1 += 0.00000037363 * Math.cos(0.07393316577 + 3553.9115221378 * t);
-        X1 += 0.00000041874 * Math.cos(2.94784781040 + 1349.8674096588 * t);
-        X1 += 0.00000036019 * Math.cos(2.84922399832 + 3127.3133312618 * t);
-        X1 += 0.00000035314 * Math.cos(2.80430917536 + 6525.8044539654 * t);
-        X1 += 0.00000032357 * Math.cos(4.45790537173 + 951.7184062506 * t);
-        X1 += 0.00000032811 * Math.cos(5.05742629063 + 3333.498879699 * t);
-        X1 += 0.00000039137 * Math.cos(5.37813466087 + 7477.522860216 * t);
-        X1 += 0.00000029434 * Math.cos(5.34740413798 + 6254.6266625236 * t);
-        X1 += 0.00000029948 * Math.cos(5.91717139203 + 553.5694028424 * t);
-        X1 += 0.00000027640 * Math.cos(3.75118803663 + 12303.06777661 * t);
-        X1 += 0.00000027492 * Math.cos(2.19308010261 + 4933.2084403326 * t);
-        X1 += 0.00000028209 * Math.cos(4.24849741016 + 3347.7259737006 * t);
-        X1 += 0.00000024027 * Math.cos(2.99666997180 + 2810.9214616052 * t);
-        X1 += 0.00000024446 * Math.cos(6.22777959925 + 1066.49547719 * t);
-        X1 += 0.00000029268 * Math.cos(2.65797242705 + 639.897286314 * t);
-        X1 += 0.00000021284 * Math.cos(3.84563390414 + 4929.6853219836 * t);
-        X1 += 0.00000022160 * Math.cos(5.38045378366 + 2281.2304965106 * t);
-        X1 += 0.00000024653 * Math.cos(0.71737818564 + 382.8965322232 * t);
-        X1 += 0.00000024832 * Math.cos(3.86595587444 + 2118.7638603784 * t);
-        X1 += 0.00000019156 * Math.cos(5.97786462687 + 529.6909650946 * t);
-        X1 += 0.00000019368 * Math.cos(0.65233184104 + 242.728603974 * t);
-        X1 += 0.00000018361 * Math.cos(0.61249454438 + 9623.6882766912 * t);
-        X1 += 0.00000017087 * Math.cos(2.30909423712 + 3320.257107301 * t);
-        X1 += 0.00000016973 * Math.cos(0.67405360149 + 3360.96774609859 * t);
-        X1 += 0.00000016990 * Math.cos(0.50198426834 + 23384.2869868986 * t);
-        X1 += 0.00000016240 * Math.cos(0.58693834825 + 6681.1575430968 * t);
-        X1 += 0.00000016010 * Math.cos(0.45122114069 + 1052.2683831884 * t);
-        X1 += 0.00000017059 * Math.cos(2.70322688862 + 6674.1113063988 * t);
-        X1 += 0.00000014616 * Math.cos(1.92148810610 + 10018.3141617504 * t);
-        X1 += 0.00000016065 * Math.cos(4.24982817116 + 3325.3599555148 * t);
-        X1 += 0.00000016701 * Math.cos(0.67061213764 + 7210.9158184942 * t);
-        X1 += 0.00000017710 * Math.cos(4.03786343224 + 7740.6067835888 * t);
-        X1 += 0.00000015982 * Math.cos(5.01800237749 + 3355.8648978848 * t);
-        X1 += 0.00000016240 * Math.cos(0.17847274471 + 6681.2921637024 * t);
-        X1 += 0.00000013777 * Math.cos(1.54970744605 + 12832.7587417046 * t);
-        X1 += 0.00000014497 * Math.cos(0.51986042995 + 2274.1169495098 * t);
-        X1 += 0.00000012485 * Math.cos(4.09460712678 + 6682.2051744678 * t);
-        X1 += 0.00000012683 * Math.cos(0.77128314603 + 5331.3574437408 * t);
-        X1 += 0.00000013623 * Math.cos(0.04061937918 + 2288.3440435114 * t);
-        X1 += 0.00000013051 * Math.cos(4.49310483339 + 3767.2106175758 * t);
-        X1 += 0.00000011614 * Math.cos(2.36759996260 + 6438.4962494256 * t);
-        X1 += 0.00000014620 * Math.cos(5.34262285752 + 4562.4609930212 * t);
-        X1 += 0.00000012264 * Math.cos(1.92472095959 + 536.8045120954 * t);
-        X1 += 0.00000011399 * Math.cos(2.44490119447 + 522.5774180938 * t);
-        X1 += 0.00000010305 * Math.cos(3.95759369406 + 7875.6718636242 * t);
-        X1 += 0.00000010643 * Math.cos(3.06544565234 + 5614.7293762096 * t);
-        X1 += 0.00000012504 * Math.cos(1.00423358318 + 10419.9862835076 * t);
-        X1 += 0.00000010339 * Math.cos(4.87442511701 + 10021.8545337516 * t);
-        X1 += 0.00000008822 * Math.cos(1.53728617245 + 3205.5473466644 * t);
-        X1 += 0.00000011354 * Math.cos(0.31954807551 + 6041.3275670856 * t);
-        X1 += 0.00000008406 * Math.cos(1.44447794642 + 3475.6775067352 * t);
-        X1 += 0.00000010339 * Math.cos(2.84366026063 + 10021.8200264472 * t);
-        X1 += 0.00000009717 * Math.cos(0.73258032600 + 6836.6452528338 * t);
-        X1 += 0.00000008014 * Math.cos(4.35110324867 + 2700.7151403858 * t);
-        X1 += 0.00000008107 * Math.cos(0.81975962806 + 13365.9728251482 * t);
-        X1 += 0.00000007381 * Math.cos(4.07383581901 + 15643.6802033098 * t);
-        X1 += 0.00000007807 * Math.cos(4.22077494831 + 6127.6554505572 * t);
-        X1 += 0.00000007065 * Math.cos(4.75207941589 + 213.299095438 * t);
-        X1 += 0.00000007035 * Math.cos(2.52904374075 + 5628.9564702112 * t);
-        X1 += 0.00000007636 * Math.cos(4.05071436432 + 1751.539531416 * t);
-        X1 += 0.00000006709 * Math.cos(4.61324201649 + 3178.1457905676 * t);
-        X1 += 0.00000006272 * Math.cos(3.10587190159 + 6298.3283211764 * t);
-        X1 += 0.00000006332 * Math.cos(4.65004753478 + 3503.079062832 * t);
-        X1 += 0.00000006358 * Math.cos(5.59134223888 + 3316.733988952 * t);
-        X1 += 0.00000007875 * Math.cos(5.63977989179 + 5729.506447149 * t);
-        X1 += 0.00000006284 * Math.cos(3.67192363783 + 3364.4908644476 * t);
-        X1 += 0.00000008239 * Math.cos(4.85475989069 + 8962.4553499102 * t);
-        X1 += 0.00000006726 * Math.cos(6.02428284097 + 9830.3890139878 * t);
-        X1 += 0.00000006038 * Math.cos(3.27619332020 + 398.1490034082 * t);
-        X1 += 0.00000007269 * Math.cos(0.63965217204 + 6894.5239488376 * t);
-        X1 += 0.00000006024 * Math.cos(1.64197757257 + 853.196381752 * t);
-        X1 += 0.00000005538 * Math.cos(5.78612814784 + 3.523118349 * t);
-        X1 += 0.00000005603 * Math.cos(5.72285881440 + 10818.1352869158 * t);
-        X1 += 0.00000005542 * Math.cos(0.97325944065 + 1758.6530784168 * t);
-        X1 += 0.00000005314 * Math.cos(4.22360413803 + 2648.454825473 * t);
-        X1 += 0.00000006512 * Math.cos(5.82435708254 + 6680.2445323314 * t);
-        X1 += 0.00000005502 * Math.cos(1.39010072925 + 6923.9534573736 * t);
-        X1 += 0.00000005061 * Math.cos(6.24728437319 + 1596.1864422846 * t);
-        X1 += 0.00000004841 * Math.cos(0.46251219835 + 6158.6474353058 * t);
-        X1 += 0.00000005019 * Math.cos(3.60025928930 + 433.7117378768 * t);
-        X1 += 0.00000004333 * Math.cos(0.94382312112 + 12964.300703391 * t);
-        X1 += 0.00000004783 * Math.cos(1.03608770138 + 6144.4203413042 * t);
-        X1 += 0.00000004730 * Math.cos(4.22311630120 + 2914.0142358238 * t);
-        X1 += 0.00000003970 * Math.cos(0.34201626027 + 3312.163239232 * t);
-        X1 += 0.00000003932 * Math.cos(2.64182103921 + 3369.0616141676 * t);
-        X1 += 0.00000005131 * Math.cos(5.75816121607 + 8432.7643848156 * t);
-        X1 += 0.00000003924 * Math.cos(5.52177794448 + 640.8776073822 * t);
-        X1 += 0.00000004288 * Math.cos(5.22939982526 + 6151.533888305 * t);
-        X1 += 0.00000003722 * Math.cos(4.67114753737 + 3335.0895023924 * t);
-        X1 += 0.00000003721 * Math.cos(4.59533823527 + 3346.1353510072 * t);
-        X1 += 0.00000004830 * Math.cos(4.64482449524 + 6688.3384004004 * t);
-        X1 += 0.00000004066 * Math.cos(4.97310263007 + 4032.7700279266 * t);
-        X1 += 0.00000003565 * Math.cos(2.53670247107 + 8273.8208670324 * t);
-        X1 += 0.00000004116 * Math.cos(3.14698296281 + 9866.4168806652 * t);
-        X1 += 0.00000003629 * Math.cos(1.25762240997 + 3304.5845600224 * t);
-        X1 += 0.00000003622 * Math.cos(5.99791431215 + 1581.959348283 * t);
-        X1 += 0.00000003577 * Math.cos(1.72457020044 + 3376.6402933772 * t);
-        X1 += 0.00000004006 * Math.cos(3.50175662034 + 2699.7348193176 * t);
-        X1 += 0.00000003816 * Math.cos(2.98894730062 + 8969.568896911 * t);
-        X1 += 0.00000003417 * Math.cos(0.51900593403 + 10021.9045904022 * t);
-        X1 += 0.00000004071 * Math.cos(3.46038113099 + 3863.1898447936 * t);
-        X1 += 0.00000004326 * Math.cos(4.09031704505 + 11773.3768115154 * t);
-        X1 += 0.00000004227 * Math.cos(5.72754081349 + 2818.035008606 * t);
-        X1 += 0.00000003928 * Math.cos(3.43504403516 + 8955.3418029094 * t);
-        X1 += 0.00000003567 * Math.cos(0.89902213787 + 1744.4259844152 * t);
-        X1 += 0.00000003247 * Math.cos(0.50731005475 + 149.5631971346 * t);
-        X1 += 0.00000003163 * Math.cos(3.19092536309 + 3980.5097130138 * t);
-        X1 += 0.00000003117 * Math.cos(3.81812196204 + 3336.7310913418 * t);
-        X1 += 0.00000003104 * Math.cos(5.44232475906 + 3344.4937620578 * t);
-        X1 += 0.00000003427 * Math.cos(0.92910700550 + 10021.7699697966 * t);
-        X1 += 0.00000003818 * Math.cos(1.63069738341 + 6283.0758499914 * t);
-        X1 += 0.00000003018 * Math.cos(1.27275373599 + 10551.528245194 * t);
-        X1 += 0.00000003094 * Math.cos(1.78971291511 + 13358.9265884502 * t);
-        X1 += 0.00000002972 * Math.cos(4.06477836275 + 419.4846438752 * t);
-        X1 += 0.00000002930 * Math.cos(5.29397937918 + 2487.4160449478 * t);
-        X1 += 0.00000002859 * Math.cos(4.14824445170 + 8270.2977486834 * t);
-        X1 += 0.00000002618 * Math.cos(4.59592591602 + 1221.8485663214 * t);
-        X1 += 0.00000003149 * Math.cos(4.07090669467 + 5459.3762870782 * t);
-        X1 += 0.00000003452 * Math.cos(3.58033884806 + 9225.539273283 * t);
-        X1 += 0.00000002662 * Math.cos(0.62485553999 + 7632.9432596502 * t);
-        X1 += 0.00000002528 * Math.cos(5.78755929713 + 3333.5661900018 * t);
-        X1 += 0.00000002421 * Math.cos(5.22954368274 + 8429.2412664666 * t);
-        X1 += 0.00000002453 * Math.cos(5.65563006765 + 8031.0922630584 * t);
-        X1 += 0.00000002458 * Math.cos(0.21740426116 + 2766.267628365 * t);
-        X1 += 0.00000003009 * Math.cos(5.91932692843 + 3981.490034082 * t);
-        X1 += 0.00000002328 * Math.cos(0.84599472286 + 9381.9399937854 * t);
-        X1 += 0.00000002424 * Math.cos(0.82684290604 + 9808.5381846614 * t);
-        X1 += 0.00000002276 * Math.cos(1.56667324357 + 5828.0284716476 * t);
-        X1 += 0.00000002192 * Math.cos(0.31892596039 + 4407.1079038898 * t);
-        X1 += 0.00000002225 * Math.cos(2.88561251745 + 3914.9572250346 * t);
-        X1 += 0.00000002514 * Math.cos(1.88526284735 + 16173.3711684044 * t);
-        X1 += 0.00000002437 * Math.cos(4.37264449561 + 11081.2192102886 * t);
-        X1 += 0.00000002753 * Math.cos(3.46421789134 + 7064.1213856228 * t);
-        X1 += 0.00000002044 * Math.cos(3.91789079559 + 6040.3472460174 * t);
-        X1 += 0.00000002107 * Math.cos(3.63278010781 + 15113.9892382152 * t);
-        X1 += 0.00000002669 * Math.cos(3.69099558382 + 6467.9257579616 * t);
-        X1 += 0.00000001887 * Math.cos(0.17011382442 + 76.2660712756 * t);
-        X1 += 0.00000001846 * Math.cos(2.79006302906 + 1692.1656695024 * t);
-        X1 += 0.00000002140 * Math.cos(3.22050811027 + 3347.6586633978 * t);
-        X1 += 0.00000001867 * Math.cos(1.35298978219 + 13760.5987102074 * t);
-        X1 += 0.00000001870 * Math.cos(5.25845310749 + 220.4126424388 * t);
-        X1 += 0.00000001717 * Math.cos(5.21576113138 + 13362.4669604514 * t);
-        X1 += 0.00000001788 * Math.cos(2.45204273441 + 6660.4494579072 * t);
-        X1 += 0.00000001744 * Math.cos(1.79434186275 + 6816.289933435 * t);
-        X1 += 0.00000002248 * Math.cos(2.21497893636 + 7234.794256242 * t);
-        X1 += 0.00000001717 * Math.cos(3.18498950602 + 13362.432453147 * t);
-        X1 += 0.00000001739 * Math.cos(3.64902335469 + 3281.2385647862 * t);
-        X1 += 0.00000002059 * Math.cos(0.84035144431 + 26724.8994135984 * t);
-        X1 += 0.00000001824 * Math.cos(5.65759439478 + 6247.5131155228 * t);
-        X1 += 0.00000001569 * Math.cos(3.26028020530 + 574.3447983348 * t);
-        X1 += 0.00000001698 * Math.cos(5.61637635354 + 3399.9862886134 * t);
-        X1 += 0.00000002119 * Math.cos(1.71301547740 + 6872.6731195112 * t);
-        X1 += 0.00000001532 * Math.cos(3.04023559365 + 3877.4169387952 * t);
-        X1 += 0.00000001628 * Math.cos(4.45153470682 + 10022.8176011676 * t);
-        X1 += 0.00000001807 * Math.cos(5.37059107698 + 6696.4773245846 * t);
-        X1 += 0.00000001767 * Math.cos(2.64991278616 + 6660.8695340008 * t);
-        X1 += 0.00000001384 * Math.cos(4.29310139885 + 11216.284290324 * t);
-        X1 += 0.00000001690 * Math.cos(4.89931132759 + 7107.8230442756 * t);
-        X1 += 0.00000001593 * Math.cos(5.81218827514 + 206.1855484372 * t);
-        X1 += 0.00000001473 * Math.cos(3.94656024828 + 8439.8779318164 * t);
-        X1 += 0.00000001360 * Math.cos(2.27641913726 + 3074.005384978 * t);
-        X1 += 0.00000001302 * Math.cos(4.55773849708 + 6665.9723822146 * t);
-        X1 += 0.00000001593 * Math.cos(1.11307060368 + 8671.9698704406 * t);
-        X1 += 0.00000001305 * Math.cos(0.97554521194 + 6701.5801727984 * t);
-        X1 += 0.00000001657 * Math.cos(5.40650209199 + 8827.3902698748 * t);
-        X1 += 0.00000001529 * Math.cos(0.56980933614 + 3546.797975137 * t);
-        X1 += 0.00000001527 * Math.cos(2.39970013340 + 3134.4268782626 * t);
-        X1 += 0.00000001234 * Math.cos(1.35920832366 + 1228.9621133222 * t);
-        X1 += 0.00000001498 * Math.cos(3.04227517263 + 10014.7237330986 * t);
-        X1 += 0.00000001192 * Math.cos(1.27460239384 + 110.2063212194 * t);
-        X1 += 0.00000001367 * Math.cos(3.02383204600 + 9779.1086761254 * t);
-        X1 += 0.00000001230 * Math.cos(0.29260201065 + 11371.7046897582 * t);
-        X1 += 0.00000001403 * Math.cos(4.40495727981 + 18984.2926300096 * t);
-        X1 += 0.00000001219 * Math.cos(0.70589188231 + 3607.2194684216 * t);
-        X1 += 0.00000001203 * Math.cos(1.93922605595 + 3319.8370312074 * t);
-        X1 += 0.00000001400 * Math.cos(4.52326043784 + 5099.2655051166 * t);
-        X1 += 0.00000001148 * Math.cos(1.04852148563 + 3361.3878221922 * t);
-        X1 += 0.00000001515 * Math.cos(4.61278775683 + 6702.000248892 * t);
-        X1 += 0.00000001157 * Math.cos(1.07615224761 + 10235.1363755374 * t);
-        X1 += 0.00000001086 * Math.cos(3.25980753881 + 12935.8515159232 * t);
-        X1 += 0.00000001089 * Math.cos(2.28518675051 + 3169.9395560806 * t);
-        X1 += 0.00000001068 * Math.cos(3.73801386165 + 6684.8152820514 * t);
-        X1 += 0.00000001340 * Math.cos(5.45392652944 + 2803.8079146044 * t);
-        X1 += 0.00000001057 * Math.cos(0.81408234263 + 10973.55568635 * t);
-        X1 += 0.00000001071 * Math.cos(2.45426009627 + 6531.661656265 * t);
-        X1 += 0.00000001124 * Math.cos(3.24778689268 + 2906.900688823 * t);
-        X1 += 0.00000001358 * Math.cos(4.09029594688 + 1039.0266107904 * t);
-        X1 += 0.00000001416 * Math.cos(2.61990974907 + 647.0108333148 * t);
-        X1 += 0.00000001027 * Math.cos(5.30953853640 + 6261.7402095244 * t);
-        X1 += 0.00000001082 * Math.cos(3.32074909820 + 6677.6344247478 * t);
-        X1 += 0.00000001020 * Math.cos(0.69684985470 + 3511.285297319 * t);
-        X1 += 0.00000001123 * Math.cos(1.64413797832 + 2921.1277828246 * t);
-        X1 += 0.00000000982 * Math.cos(0.25720172165 + 4989.0591838972 * t);
-        X1 += 0.00000000977 * Math.cos(3.76387167528 + 8425.6508378148 * t);
-        X1 += 0.00000000922 * Math.cos(4.56445665593 + 9468.267877257 * t);
-        X1 += 0.00000000916 * Math.cos(0.04652972552 + 3561.0250691386 * t);
-        X1 += 0.00000000918 * Math.cos(0.10710061200 + 13171.0014406876 * t);
-        X1 += 0.00000001078 * Math.cos(1.88392074727 + 10575.4066829418 * t);
-        X1 += 0.00000000887 * Math.cos(2.35910251121 + 3760.097070575 * t);
-        X1 += 0.00000000878 * Math.cos(1.69416917623 + 956.2891559706 * t);
-        X1 += 0.00000000872 * Math.cos(2.78538821999 + 3120.199784261 * t);
-        X1 += 0.00000000930 * Math.cos(5.98147253164 + 9070.1188738488 * t);
-        X1 += 0.00000000840 * Math.cos(0.12611650681 + 2125.8774073792 * t);
-        X1 += 0.00000000880 * Math.cos(2.47516759962 + 3313.210870603 * t);
-        X1 += 0.00000001010 * Math.cos(1.04763118283 + 3253.30422216 * t);
-        X1 += 0.00000000870 * Math.cos(0.50700932774 + 3368.0139827966 * t);
-        X1 += 0.00000001000 * Math.cos(4.48123094738 + 9595.2390892234 * t);
-        X1 += 0.00000000822 * Math.cos(2.58495071013 + 1861.7458526354 * t);
-        X1 += 0.00000000974 * Math.cos(1.93461985334 + 3427.9206312396 * t);
-        X1 += 0.00000001121 * Math.cos(1.14643572651 + 16706.585251848 * t);
-        X1 += 0.00000000790 * Math.cos(2.77256344629 + 3443.7052009184 * t);
-        X1 += 0.00000000790 * Math.cos(4.02400070641 + 10404.7338123226 * t);
-        X1 += 0.00000000777 * Math.cos(1.90608277320 + 9168.6408983474 * t);
-        X1 += 0.00000000768 * Math.cos(4.93323770287 + 11769.8536931664 * t);
-        X1 += 0.00000000917 * Math.cos(5.01587421292 + 3340.629680352 * t);
-        X1 += 0.00000000759 * Math.cos(6.06112515589 + 14158.7477136156 * t);
-        X1 += 0.00000000756 * Math.cos(3.17480517462 + 632.7837393132 * t);
-        X1 += 0.00000000769 * Math.cos(3.45170371859 + 9638.9407478762 * t);
-        X1 += 0.00000000917 * Math.cos(2.98510265793 + 3340.5951730476 * t);
-        X1 += 0.00000000800 * Math.cos(4.79154115035 + 6518.7582172674 * t);
-        X1 += 0.00000000725 * Math.cos(3.17641441624 + 6475.0393049624 * t);
-        X1 += 0.00000000721 * Math.cos(5.76834431293 + 7903.073419721 * t);
-        X1 += 0.00000000730 * Math.cos(3.02102816704 + 6709.6740408674 * t);
-        X1 += 0.00000000925 * Math.cos(5.09004861088 + 11243.6858464208 * t);
-        X1 += 0.00000000753 * Math.cos(5.41546929401 + 5642.1982426092 * t);
-        X1 += 0.00000000797 * Math.cos(1.29224453150 + 16304.9131300908 * t);
-        X1 += 0.00000000689 * Math.cos(4.67900398399 + 7910.1869667218 * t);
-        X1 += 0.00000000750 * Math.cos(6.08088730030 + 3296.8935143948 * t);
-        X1 += 0.00000000688 * Math.cos(5.00398855432 + 10028.9508271002 * t);
-        X1 += 0.00000000660 * Math.cos(1.31849975129 + 1214.7350193206 * t);
-        X1 += 0.00000000737 * Math.cos(3.18448728107 + 3384.3313390048 * t);
-        X1 += 0.00000000896 * Math.cos(5.14258755707 + 2301.58581590939 * t);
-        X1 += 0.00000000674 * Math.cos(2.97036744718 + 2807.3983432562 * t);
-        X1 += 0.00000000845 * Math.cos(0.83947970783 + 9499.2598620056 * t);
-        X1 += 0.00000000627 * Math.cos(1.11034276522 + 13149.1506113612 * t);
-        X1 += 0.00000000633 * Math.cos(2.81432845663 + 6604.958782124 * t);
-        X1 += 0.00000000612 * Math.cos(0.29523233872 + 3237.5196524812 * t);
-        X1 += 0.00000000611 * Math.cos(2.72870079822 + 12566.1516999828 * t);
-        X1 += 0.00000000710 * Math.cos(3.89492785518 + 6460.8122109608 * t);
-        X1 += 0.00000000701 * Math.cos(0.38714381576 + 3311.18291816379 * t);
-        X1 += 0.00000000701 * Math.cos(2.59503044929 + 3370.0419352358 * t);
-        X1 += 0.00000000605 * Math.cos(6.16661321134 + 949.1756089698 * t);
-        X1 += 0.00000000721 * Math.cos(3.39819016368 + 12310.1813236108 * t);
-        X1 += 0.00000000634 * Math.cos(5.13698921586 + 692.1576012268 * t);
-        X1 += 0.00000000570 * Math.cos(4.29687682063 + 2693.601593385 * t);
-        X1 += 0.00000000646 * Math.cos(5.77545650923 + 2111.6503133776 * t);
-        X1 += 0.00000000544 * Math.cos(1.97116952941 + 16699.53901514999 * t);
-        X1 += 0.00000000573 * Math.cos(2.69510600136 + 1437.1756141986 * t);
-        X1 += 0.00000000623 * Math.cos(1.72892894707 + 10264.5658840734 * t);
-        X1 += 0.00000000539 * Math.cos(0.82065219960 + 3490.1756238344 * t);
-        X1 += 0.00000000557 * Math.cos(0.85462599459 + 13362.517017102 * t);
-        X1 += 0.00000000647 * Math.cos(0.93841423909 + 4392.8808098882 * t);
-        X1 += 0.00000000618 * Math.cos(2.21502067098 + 10177.2576795336 * t);
-        X1 += 0.00000000527 * Math.cos(6.20891297659 + 1375.7737998458 * t);
-        X1 += 0.00000000537 * Math.cos(0.00969918132 + 3873.8265101434 * t);
-        X1 += 0.00000000584 * Math.cos(3.00944725913 + 5085.038411115 * t);
-        X1 += 0.00000000511 * Math.cos(3.07543364583 + 13517.8701062334 * t);
-        X1 += 0.00000000584 * Math.cos(2.12241430212 + 4193.8088084518 * t);
-        X1 += 0.00000000506 * Math.cos(1.37728449479 + 9485.032768004 * t);
-        X1 += 0.00000000500 * Math.cos(2.93933452214 + 224.3447957019 * t);
-        X1 += 0.00000000670 * Math.cos(5.94569787504 + 6657.3464156518 * t);
-        X1 += 0.00000000513 * Math.cos(4.94015312303 + 3232.9489027612 * t);
-        X1 += 0.00000000489 * Math.cos(4.17658939709 + 3774.3241645766 * t);
-        X1 += 0.00000000600 * Math.cos(3.74402912289 + 2707.8286873866 * t);
-        X1 += 0.00000000475 * Math.cos(2.23223934897 + 2178.137722292 * t);
-        X1 += 0.00000000613 * Math.cos(4.40036999883 + 5989.0672521728 * t);
-        X1 += 0.00000000492 * Math.cos(4.32513664928 + 3448.2759506384 * t);
-        X1 += 0.00000000463 * Math.cos(1.38849137815 + 3229.4257844122 * t);
-        X1 += 0.00000000533 * Math.cos(3.77079193810 + 18454.601664915 * t);
-        X1 += 0.00000000472 * Math.cos(3.67184386612 + 12295.9542296092 * t);
-        X1 += 0.00000000540 * Math.cos(0.51844562567 + 6034.2140200848 * t);
-        X1 += 0.00000000444 * Math.cos(3.95877289512 + 6705.1032911474 * t);
-        X1 += 0.00000000443 * Math.cos(1.59365772526 + 3451.7990689874 * t);
-        X1 += 0.00000000557 * Math.cos(1.26314936469 + 13362.3823964964 * t);
-        X1 += 0.00000000551 * Math.cos(3.37214913132 + 263.0839233728 * t);
-        X1 += 0.00000000494 * Math.cos(3.48539252825 + 13207.029307365 * t);
-        X1 += 0.00000000402 * Math.cos(1.71992380217 + 6571.0185321802 * t);
-        X1 += 0.00000000413 * Math.cos(4.34479957368 + 8799.988713778 * t);
-        X1 += 0.00000000488 * Math.cos(2.98223801931 + 2221.856634597 * t);
-        X1 += 0.00000000421 * Math.cos(4.49848554474 + 4379.6390374902 * t);
-        X1 += 0.00000000472 * Math.cos(0.33922281030 + 4936.7988689844 * t);
-        X1 += 0.00000000515 * Math.cos(5.18562869638 + 6675.7019290922 * t);
-        X1 += 0.00000000477 * Math.cos(5.07324050899 + 7895.9598727202 * t);
-        X1 += 0.00000000407 * Math.cos(1.25884679916 + 3289.33208883739 * t);
-        X1 += 0.00000000407 * Math.cos(1.72332746589 + 3391.89276456221 * t);
-        X1 += 0.00000000474 * Math.cos(1.74796870608 + 13892.1406718938 * t);
-        X1 += 0.00000000478 * Math.cos(4.16158691668 + 13119.72110282519 * t);
-        X1 += 0.00000000427 * Math.cos(2.86195707217 + 11614.4332937322 * t);
-        X1 += 0.00000000369 * Math.cos(5.02545575221 + 135.0650800354 * t);
-        X1 += 0.00000000384 * Math.cos(5.80577939754 + 6685.1061887576 * t);
-        X1 += 0.00000000392 * Math.cos(4.39337463856 + 6843.6914895318 * t);
-        X1 += 0.00000000370 * Math.cos(1.36094569476 + 3274.1250177854 * t);
-        X1 += 0.00000000388 * Math.cos(0.03030103193 + 6048.4411140864 * t);
-        X1 += 0.00000000363 * Math.cos(1.24603804228 + 20.3553193988 * t);
-        X1 += 0.00000000360 * Math.cos(1.62130663873 + 3407.0998356142 * t);
-        X1 += 0.00000000345 * Math.cos(4.59132625278 + 15.252471185 * t);
-        X1 += 0.00000000347 * Math.cos(1.29475122047 + 5724.935697429 * t);
-        X1 += 0.00000000453 * Math.cos(2.09914090460 + 3113.1362939108 * t);
-        X1 += 0.00000000389 * Math.cos(6.08882765883 + 9588.1255422226 * t);
-        X1 += 0.00000000422 * Math.cos(2.19336420550 + 19513.9835951042 * t);
-        X1 += 0.00000000373 * Math.cos(6.01149621113 + 10020.8569590312 * t);
-        X1 += 0.00000000344 * Math.cos(5.71003719613 + 12721.572099417 * t);
-        X1 += 0.00000000359 * Math.cos(5.00080130209 + 9380.9596727172 * t);
-        X1 += 0.00000000375 * Math.cos(4.47591732608 + 11610.9101753832 * t);
-        X1 += 0.00000000335 * Math.cos(4.55690899534 + 2938.9403049426 * t);
-        X1 += 0.00000000315 * Math.cos(4.72280053136 + 2384.3232707292 * t);
-        X1 += 0.00000000340 * Math.cos(3.64508189959 + 7321.1221397136 * t);
-        X1 += 0.00000000412 * Math.cos(0.88247746034 + 3568.0885594888 * t);
-        X1 += 0.00000000374 * Math.cos(4.02425919317 + 3415.3940252671 * t);
-        X1 += 0.00000000310 * Math.cos(4.70848762021 + 14421.8316369884 * t);
-        X1 += 0.00000000344 * Math.cos(0.47873990239 + 1903.4368125012 * t);
-        X1 += 0.00000000309 * Math.cos(6.17856568800 + 4569.574540022 * t);
-        X1 += 0.00000000330 * Math.cos(2.06620388834 + 3318.7615973734 * t);
-        X1 += 0.00000000330 * Math.cos(0.91597037671 + 3362.4632560262 * t);
-        X1 += 0.00000000346 * Math.cos(5.60772621945 + 9602.3526362242 * t);
-        X1 += 0.00000000329 * Math.cos(4.94303630669 + 10042.6126755918 * t);
-        X1 += 0.00000000308 * Math.cos(4.74792571468 + 16460.33352952499 * t);
-        X1 += 0.00000000301 * Math.cos(0.64905373192 + 3340.6797370026 * t);
-        X1 += 0.00000000311 * Math.cos(5.54347060615 + 323.5054166574 * t);
-        X1 += 0.00000000340 * Math.cos(4.78541899020 + 22324.9050567094 * t);
-        X1 += 0.00000000294 * Math.cos(4.55140151748 + 10596.1820784342 * t);
-        X1 += 0.00000000390 * Math.cos(2.10755320496 + 6717.252720077 * t);
-        X1 += 0.00000000298 * Math.cos(0.56249511314 + 3416.8784979754 * t);
-        X1 += 0.00000000291 * Math.cos(1.54713222563 + 6645.1969867222 * t);
-        X1 += 0.00000000360 * Math.cos(0.57790692476 + 5244.049239201 * t);
-        X1 += 0.00000000399 * Math.cos(2.01329403322 + 13916.0191096416 * t);
-        X1 += 0.00000000293 * Math.cos(3.68949232970 + 2675.8563815698 * t);
-        X1 += 0.00000000327 * Math.cos(6.16735333216 + 4459.3682188026 * t);
-        X1 += 0.00000000337 * Math.cos(5.55760049578 + 162.4666361322 * t);
-        X1 += 0.00000000304 * Math.cos(3.91898402784 + 7203.8022714934 * t);
-        X1 += 0.00000000280 * Math.cos(1.62615107581 + 3397.5108016354 * t);
-        X1 += 0.00000000280 * Math.cos(1.35602318924 + 3283.7140517642 * t);
-        X1 += 0.00000000275 * Math.cos(3.08102921005 + 5732.0492444298 * t);
-        X1 += 0.00000000301 * Math.cos(1.05608440560 + 3340.545116397 * t);
-        X1 += 0.00000000284 * Math.cos(3.95421107268 + 14584.2982731206 * t);
-        X1 += 0.00000000280 * Math.cos(3.40896567674 + 6688.2710900976 * t);
-        X1 += 0.00000000356 * Math.cos(3.25540777340 + 1162.4747044078 * t);
-        X1 += 0.00000000363 * Math.cos(2.79281358783 + 10001.061884607 * t);
-        X1 += 0.00000000285 * Math.cos(2.02354216491 + 14314.1681130498 * t);
-        X1 += 0.00000000305 * Math.cos(5.21825469861 + 3265.8308281325 * t);
-        X1 += 0.00000000259 * Math.cos(3.13103994929 + 5032.7780962022 * t);
-        X1 += 0.00000000253 * Math.cos(1.68801838224 + 17101.2111369072 * t);
-        X1 += 0.00000000251 * Math.cos(3.23448365420 + 11766.2632645146 * t);
-        X1 += 0.00000000253 * Math.cos(3.52319644222 + 16703.0448798468 * t);
-        X1 += 0.00000000253 * Math.cos(1.08130162107 + 6947.8318951214 * t);
-        X1 += 0.00000000278 * Math.cos(6.24528874374 + 7322.1024607818 * t);
-        X1 += 0.00000000282 * Math.cos(1.66194895980 + 860.3099287528 * t);
-        X1 += 0.00000000278 * Math.cos(1.07336593399 + 74.7815985673 * t);
-        X1 += 0.00000000253 * Math.cos(5.55396848472 + 16703.07938715119 * t);
-        X1 += 0.00000000246 * Math.cos(2.73029636009 + 3304.0070613956 * t);
-        X1 += 0.00000000246 * Math.cos(0.25187790496 + 3377.217792004 * t);
-        X1 += 0.00000000239 * Math.cos(3.57219156566 + 16276.463942623 * t);
-        X1 += 0.00000000239 * Math.cos(3.66509719573 + 11780.4903585162 * t);
-        X1 += 0.00000000225 * Math.cos(3.64551843619 + 10018.2468514476 * t);
-        X1 += 0.00000000239 * Math.cos(4.78918105736 + 13936.794505134 * t);
-        X1 += 0.00000000284 * Math.cos(2.13762517288 + 10156.9023601348 * t);
-        X1 += 0.00000000238 * Math.cos(4.98437875568 + 7255.5696517344 * t);
-        X1 += 0.00000000243 * Math.cos(1.17853314043 + 30065.5118402982 * t);
-        X1 += 0.00000000219 * Math.cos(2.93870106015 + 5305.4510535538 * t);
-        X1 += 0.00000000218 * Math.cos(3.34948255670 + 3029.7716278314 * t);
-        X1 += 0.00000000240 * Math.cos(1.35327460265 + 2075.0449480734 * t);
-        X1 += 0.00000000221 * Math.cos(5.57663616389 + 4005.3684718298 * t);
-        X1 += 0.00000000223 * Math.cos(4.35090669349 + 23.8784377478 * t);
-        X1 += 0.00000000224 * Math.cos(4.07746567192 + 10025.4277087512 * t);
-        X1 += 0.00000000216 * Math.cos(5.71759573965 + 10037.0897512844 * t);
-        X1 += 0.00000000213 * Math.cos(5.27835961911 + 10448.4354709754 * t);
-        X1 += 0.00000000210 * Math.cos(1.47694443779 + 4555.3474460204 * t);
-        X1 += 0.00000000211 * Math.cos(3.90222929747 + 6944.3087767724 * t);
-        X1 += 0.00000000215 * Math.cos(4.18959076854 + 3212.5935833624 * t);
-        X1 += 0.00000000234 * Math.cos(0.76568079767 + 3185.2593375684 * t);
-        X1 += 0.00000000215 * Math.cos(6.24541228185 + 1545.3539829788 * t);
-        X1 += 0.00000000212 * Math.cos(5.30591163701 + 3230.4061054804 * t);
-        X1 += 0.00000000253 * Math.cos(6.20740369502 + 16062.1845261168 * t);
-        X1 += 0.00000000201 * Math.cos(1.28338790475 + 1835.3246176068 * t);
-        X1 += 0.00000000209 * Math.cos(3.36887494837 + 16858.4825329332 * t);
-        X1 += 0.00000000198 * Math.cos(0.22514658211 + 6578.132079181 * t);
-        X1 += 0.00000000204 * Math.cos(5.07565396807 + 3468.6312700372 * t);
-        X1 += 0.00000000213 * Math.cos(0.67649924264 + 7747.7203305896 * t);
-        X1 += 0.00000000266 * Math.cos(5.05292569149 + 2277.7073781616 * t);
-        X1 += 0.00000000198 * Math.cos(1.16597531015 + 15508.6151232744 * t);
-        X1 += 0.00000000193 * Math.cos(5.91462315638 + 3651.4532255682 * t);
-        X1 += 0.00000000199 * Math.cos(2.92332691428 + 17924.9106998204 * t);
-        X1 += 0.00000000242 * Math.cos(3.82869102683 + 6621.850991486 * t);
-        X1 += 0.00000000220 * Math.cos(2.24714438581 + 3495.9655158312 * t);
-        X1 += 0.00000000190 * Math.cos(0.88866953545 + 12323.4230960088 * t);
-        X1 += 0.00000000192 * Math.cos(5.22444181613 + 2480.302497947 * t);
-        X1 += 0.00000000197 * Math.cos(1.26232029421 + 15664.03552270859 * t);
-        X1 += 0.00000000189 * Math.cos(0.28835038064 + 19402.7969528166 * t);
-        X1 += 0.00000000192 * Math.cos(4.92154638435 + 14054.607308026 * t);
-        X1 += 0.00000000183 * Math.cos(5.56570381896 + 8542.970706035 * t);
-        X1 += 0.00000000200 * Math.cos(4.07950076032 + 6677.3435180416 * t);
-        X1 += 0.00000000249 * Math.cos(1.63875770688 + 699.2711482276 * t);
-        X1 += 0.00000000184 * Math.cos(2.06454534852 + 4845.9002357928 * t);
-        X1 += 0.00000000183 * Math.cos(5.88258668238 + 533.2140834436 * t);
-        X1 += 0.00000000202 * Math.cos(1.49099779688 + 12012.5822971404 * t);
-        X1 += 0.00000000177 * Math.cos(5.39113553042 + 7380.4960016272 * t);
-        X1 += 0.00000000178 * Math.cos(0.04214387699 + 6456.8800576977 * t);
-        X1 += 0.00000000205 * Math.cos(1.56638102938 + 2945.9865416406 * t);
-        X1 += 0.00000000239 * Math.cos(0.56549194814 + 6106.8800550648 * t);
-        X1 += 0.00000000200 * Math.cos(2.99049384035 + 10001.48196070061 * t);
-        X1 += 0.00000000171 * Math.cos(4.43743888209 + 6756.0064519669 * t);
-        X1 += 0.00000000182 * Math.cos(1.09754108002 + 6887.4104018368 * t);
-        X1 += 0.00000000174 * Math.cos(3.24224963289 + 6418.1409300268 * t);
-        X1 += 0.00000000168 * Math.cos(1.47006471713 + 13575.7488022372 * t);
-        X1 += 0.00000000184 * Math.cos(3.93810691590 + 7218.029365495 * t);
-        X1 += 0.00000000166 * Math.cos(3.82858624226 + 15650.7937503106 * t);
-        X1 += 0.00000000168 * Math.cos(1.24963985652 + 5618.3198048614 * t);
-        X1 += 0.00000000212 * Math.cos(4.80268839794 + 13363.4300278674 * t);
-        X1 += 0.00000000169 * Math.cos(0.37714459018 + 2655.5683724738 * t);
-        X1 += 0.00000000168 * Math.cos(1.37312305288 + 7314.0085927128 * t);
-        X1 += 0.00000000207 * Math.cos(6.11286992514 + 14712.317116458 * t);
-        X1 += 0.00000000159 * Math.cos(2.63556274864 + 2008.557539159 * t);
-        X1 += 0.00000000177 * Math.cos(5.21096301825 + 6686.747777707 * t);
-        X1 += 0.00000000192 * Math.cos(3.27974426286 + 2751.5475996916 * t);
-        X1 += 0.00000000153 * Math.cos(4.85804008745 + 3347.2960905739 * t);
-        X1 += 0.00000000153 * Math.cos(4.40731948478 + 3333.9287628257 * t);
-        X1 += 0.00000000151 * Math.cos(2.78026590654 + 103.0927742186 * t);
-        X1 += 0.00000000154 * Math.cos(1.98358917407 + 3499.555944483 * t);
-        X1 += 0.00000000151 * Math.cos(5.45564580430 + 10713.9948813262 * t);
-        X1 += 0.00000000169 * Math.cos(1.72784795263 + 19645.5255567906 * t);
-        X1 += 0.00000000175 * Math.cos(0.52130528553 + 8982.810669309 * t);
-        X1 += 0.00000000188 * Math.cos(2.80365997800 + 1332.0548875408 * t);
-        X1 += 0.00000000195 * Math.cos(0.42819289586 + 6546.1597733642 * t);
-        X1 += 0.00000000153 * Math.cos(1.34899298445 + 12722.5524204852 * t);
-        X1 += 0.00000000158 * Math.cos(4.60986821977 + 14556.8967170238 * t);
-        X1 += 0.00000000173 * Math.cos(3.36956475760 + 14.2270940016 * t);
-        X1 += 0.00000000171 * Math.cos(4.49567777458 + 1062.9050485382 * t);
-        X1 += 0.00000000171 * Math.cos(0.56475191630 + 2391.43681773 * t);
-        X1 += 0.00000000185 * Math.cos(4.33527974597 + 2409.249339848 * t);
-        X1 += 0.00000000179 * Math.cos(6.25811741113 + 20.7753954924 * t);
-        X1 += 0.00000000143 * Math.cos(2.17166434379 + 1505.28780909299 * t);
-        X1 += 0.00000000149 * Math.cos(1.03739270255 + 735.8765135318 * t);
-        X1 += 0.00000000152 * Math.cos(0.66722406763 + 9389.0535407862 * t);
-        X1 += 0.00000000148 * Math.cos(3.00263900859 + 3053.6500655792 * t);
-        X1 += 0.00000000140 * Math.cos(0.90450305556 + 6691.8615187494 * t);
-        X1 += 0.00000000135 * Math.cos(4.10212923465 + 2604.735913168 * t);
-        X1 += 0.00000000135 * Math.cos(5.16323033758 + 4076.4889402316 * t);
-        X1 += 0.00000000134 * Math.cos(2.23334811023 + 3191.0492295652 * t);
-        X1 += 0.00000000177 * Math.cos(1.67456433042 + 8958.9322315612 * t);
-        X1 += 0.00000000178 * Math.cos(1.87772953896 + 2284.7536148596 * t);
-        X1 += 0.00000000132 * Math.cos(2.81820003351 + 846.0828347512 * t);
-        X1 += 0.00000000175 * Math.cos(4.86229323516 + 8965.9784682592 * t);
-        X1 += 0.00000000160 * Math.cos(4.45487960287 + 2494.5295919486 * t);
-        X1 += 0.00000000138 * Math.cos(1.47418494330 + 20047.1976785478 * t);
-        X1 += 0.00000000128 * Math.cos(0.92352133267 + 9374.8264467846 * t);
-        X1 += 0.00000000132 * Math.cos(5.64348485151 + 7366.2689076256 * t);
-        X1 += 0.00000000152 * Math.cos(1.23461889422 + 4672.6673142406 * t);
-        X1 += 0.00000000173 * Math.cos(1.67113077977 + 19004.6479494084 * t);
-        X1 += 0.00000000158 * Math.cos(5.98697230845 + 3929.677253708 * t);
-        X1 += 0.00000000126 * Math.cos(4.78413400650 + 6148.010769956 * t);
-        X1 += 0.00000000126 * Math.cos(4.40104234637 + 11670.2840372968 * t);
-        X1 += 0.00000000133 * Math.cos(1.12155584770 + 12839.8722887054 * t);
-        X1 += 0.00000000137 * Math.cos(5.81509659853 + 6674.1786167016 * t);
-        X1 += 0.00000000149 * Math.cos(4.52388789068 + 3077.528503327 * t);
-        X1 += 0.00000000125 * Math.cos(1.44691455296 + 36.0278666774 * t);
-        X1 += 0.00000000146 * Math.cos(2.09359464470 + 3397.4156888696 * t);
-        X1 += 0.00000000146 * Math.cos(0.88857962035 + 3283.80916453 * t);
-        X1 += 0.00000000157 * Math.cos(3.39004226467 + 3450.8187479192 * t);
-        X1 += 0.00000000154 * Math.cos(5.27624866771 + 12168.0026965746 * t);
-        X1 += 0.00000000162 * Math.cos(5.99305553804 + 5518.7501489918 * t);
-        X1 += 0.00000000126 * Math.cos(5.23539499383 + 13553.8979729108 * t);
-        X1 += 0.00000000133 * Math.cos(6.26348452529 + 3627.57478782039 * t);
-        X1 += 0.00000000124 * Math.cos(1.40431448992 + 6593.9166488598 * t);
-        X1 += 0.00000000123 * Math.cos(1.97465918753 + 1485.9801210652 * t);
-        X1 += 0.00000000125 * Math.cos(3.06728736345 + 18606.4989460002 * t);
-        X1 += 0.00000000123 * Math.cos(2.92428130894 + 15906.7641266826 * t);
-        X1 += 0.00000000146 * Math.cos(4.34004130421 + 1478.8665740644 * t);
-        X1 += 0.00000000117 * Math.cos(2.48675823285 + 3337.106562003 * t);
-        X1 += 0.00000000117 * Math.cos(3.63700868579 + 3344.11829139661 * t);
-        X1 += 0.00000000147 * Math.cos(2.64686332853 + 6510.5519827804 * t);
-        X1 += 0.00000000119 * Math.cos(2.67568218000 + 15265.8865193004 * t);
-        X1 += 0.00000000117 * Math.cos(5.66778031729 + 3344.152798701 * t);
-        X1 += 0.00000000117 * Math.cos(0.45598660135 + 3337.0720546986 * t);
-        X1 += 0.00000000118 * Math.cos(5.77425794908 + 9886.772200064 * t);
-        X1 += 0.00000000154 * Math.cos(2.03792935277 + 3133.9116894032 * t);
-        X1 += 0.00000000118 * Math.cos(0.07858750158 + 3317.8439300904 * t);
-        X1 += 0.00000000118 * Math.cos(2.90358676347 + 3363.3809233092 * t);
-        X1 += 0.00000000158 * Math.cos(3.42513552451 + 0.9803210682 * t);
-        X1 += 0.00000000117 * Math.cos(2.63259162370 + 3184.2117061974 * t);
-        X1 += 0.00000000117 * Math.cos(0.34958264135 + 3497.0131472022 * t);
-        X1 += 0.00000000115 * Math.cos(3.42928363203 + 6724.9437657046 * t);
-        X1 += 0.00000000114 * Math.cos(1.78485255818 + 5820.9149246468 * t);
-        X1 += 0.00000000114 * Math.cos(1.36878094205 + 9065.5481241288 * t);
-        X1 += 0.00000000124 * Math.cos(4.75081143126 + 2631.6226244232 * t);
-        X1 += 0.00000000118 * Math.cos(2.00813775574 + 4025.6564809258 * t);
-        X1 += 0.00000000135 * Math.cos(4.74860182927 + 3603.6963500726 * t);
-        X1 += 0.00000000119 * Math.cos(0.46273681956 + 16511.6138673874 * t);
-        X1 += 0.00000000155 * Math.cos(2.36780510491 + 6155.057006654 * t);
-        X1 += 0.00000000115 * Math.cos(4.80039490722 + 6997.6167230562 * t);
-        X1 += 0.00000000119 * Math.cos(3.37046808379 + 4447.7512323846 * t);
-        X1 += 0.00000000114 * Math.cos(3.09767238718 + 3987.6232600146 * t);
-        X1 += 0.00000000110 * Math.cos(1.50396104090 + 87.30820453981 * t);
-        X1 += 0.00000000138 * Math.cos(6.15843764702 + 2233.473621015 * t);
-        X1 += 0.00000000131 * Math.cos(0.53786654009 + 6901.6374958384 * t);
-        X1 += 0.00000000112 * Math.cos(2.08380141682 + 22345.2603761082 * t);
-        X1 += 0.00000000108 * Math.cos(4.30979711000 + 2973.3880977374 * t);
-        X1 += 0.00000000115 * Math.cos(2.50244363406 + 36.6053653042 * t);
-        X1 += 0.00000000111 * Math.cos(1.81433997961 + 316.3918696566 * t);
-        X1 += 0.00000000130 * Math.cos(1.42012740400 + 10213.285546211 * t);
-        X1 += 0.00000000108 * Math.cos(5.05364311472 + 19800.9459562248 * t);
-        X1 += 0.00000000111 * Math.cos(3.72624023806 + 6357.7194367422 * t);
-        X1 += 0.00000000145 * Math.cos(0.99358639575 + 2060.8178540718 * t);
-        X1 += 0.00000000112 * Math.cos(3.97083451330 + 2574.8193622534 * t);
-        X1 += 0.00000000139 * Math.cos(0.94728626821 + 3547.3131639964 * t);
-        X1 += 0.00000000122 * Math.cos(4.41872868475 + 3346.4696289994 * t);
-        X1 += 0.00000000122 * Math.cos(4.84663088748 + 3334.7552244002 * t);
-        X1 += 0.00000000140 * Math.cos(6.09857806608 + 6670.5881880498 * t);
-        X1 += 0.00000000100 * Math.cos(2.58315361675 + 17917.79715281959 * t);
-        X1 += 0.00000000106 * Math.cos(3.77034034448 + 13745.3462390224 * t);
-        X1 += 0.00000000120 * Math.cos(2.98017967977 + 3370.1042450032 * t);
-        X1 += 0.00000000120 * Math.cos(0.00199458528 + 3311.1206083964 * t);
-        X1 += 0.00000000118 * Math.cos(2.40172384456 + 6606.4432548323 * t);
-        X1 += 0.00000000132 * Math.cos(5.74618131270 + 3050.1269472302 * t);
-        X1 += 0.00000000106 * Math.cos(5.77400557563 + 2641.3412784722 * t);
-        X1 += 0.00000000096 * Math.cos(5.75684065935 + 1118.7557921028 * t);
-        X1 += 0.00000000101 * Math.cos(3.76810604314 + 10124.930054318 * t);
-        X1 += 0.00000000104 * Math.cos(1.92319744263 + 4296.9015826704 * t);
-        X1 += 0.00000000111 * Math.cos(1.28913302911 + 10042.1925994982 * t);
-        X1 += 0.00000000094 * Math.cos(1.36125916148 + 17468.8551979454 * t);
-        X1 += 0.00000000096 * Math.cos(4.84024975949 + 10006.5848089144 * t);
-        X1 += 0.00000000094 * Math.cos(0.85293916684 + 2679.3794999188 * t);
-        X1 += 0.00000000108 * Math.cos(1.41232833732 + 3735.238311759 * t);
-        X1 += 0.00000000092 * Math.cos(4.97009844077 + 3707.8367556622 * t);
-        X1 += 0.00000000097 * Math.cos(3.70150649705 + 2922.1081038928 * t);
-        X1 += 0.00000000109 * Math.cos(3.81691606800 + 11250.7993934216 * t);
-        X1 += 0.00000000092 * Math.cos(6.04182543036 + 2540.7913015344 * t);
-        X1 += 0.00000000126 * Math.cos(4.88607866833 + 4271.9755135516 * t);
-        X1 += 0.00000000095 * Math.cos(0.10422807800 + 59.3738619136 * t);
-        X1 += 0.00000000110 * Math.cos(5.54106438691 + 4106.4054911462 * t);
-        X1 += 0.00000000115 * Math.cos(3.52051514601 + 9815.6517316622 * t);
-        X1 += 0.00000000093 * Math.cos(3.71904554876 + 2771.7905526724 * t);
-        X1 += 0.00000000100 * Math.cos(1.66203445799 + 26887.3660497306 * t);
-        X1 += 0.00000000104 * Math.cos(2.35767081244 + 11925.2740926006 * t);
-        X1 += 0.00000000113 * Math.cos(0.21883124871 + 4922.5717749828 * t);
-        X1 += 0.00000000109 * Math.cos(4.06648304067 + 21795.21409161479 * t);
-        X1 += 0.00000000094 * Math.cos(4.82179990259 + 1272.6810256272 * t);
-        X1 += 0.00000000091 * Math.cos(4.41382868784 + 4049.6022289764 * t);
-        X1 += 0.00000000086 * Math.cos(0.86878584025 + 17654.7805397496 * t);
-        X1 += 0.00000000119 * Math.cos(3.51878936510 + 3631.0979061694 * t);
-        X1 += 0.00000000117 * Math.cos(6.22334083160 + 1905.4647649404 * t);
-        X1 += 0.00000000098 * Math.cos(2.27543509085 + 6768.5330579394 * t);
-        X1 += 0.00000000095 * Math.cos(4.80180777978 + 10706.8813343254 * t);
-        X1 += 0.00000000084 * Math.cos(0.40663774606 + 3152.68727893721 * t);
-        X1 += 0.00000000093 * Math.cos(2.83658856377 + 2538.2485042536 * t);
-        X1 += 0.00000000085 * Math.cos(1.40832176676 + 16489.763038061 * t);
-        X1 += 0.00000000094 * Math.cos(6.05010322728 + 12942.965062924 * t);
-        X1 += 0.00000000107 * Math.cos(1.79283820861 + 6286.5989683404 * t);
-        X1 += 0.00000000081 * Math.cos(2.07730423259 + 3326.3853326982 * t);
-        X1 += 0.00000000081 * Math.cos(0.90487003246 + 3354.8395207014 * t);
-        X1 += 0.00000000082 * Math.cos(5.23339031416 + 1442.2612087602 * t);
-        X1 += 0.00000000079 * Math.cos(4.56396980209 + 18208.349942592 * t);
-        X1 += 0.00000000079 * Math.cos(3.07988237612 + 4777.7880408984 * t);
-        X1 += 0.00000000083 * Math.cos(5.56382700928 + 3759.1167495068 * t);
-        X1 += 0.00000000085 * Math.cos(4.56854166929 + 42942.50433914939 * t);
-        X1 += 0.00000000079 * Math.cos(4.26906442068 + 3378.7454623376 * t);
-        X1 += 0.00000000079 * Math.cos(4.99629515155 + 3302.479391062 * t);
-        X1 += 0.00000000080 * Math.cos(6.17200069363 + 4142.976349146 * t);
-        X1 += 0.00000000079 * Math.cos(2.75167670672 + 9947.0556815321 * t);
-        X1 += 0.00000000109 * Math.cos(5.81788706036 + 765.7930644464 * t);
-        X1 += 0.00000000102 * Math.cos(4.48912094824 + 10721.108428327 * t);
-        X1 += 0.00000000106 * Math.cos(3.49629147004 + 21947.11137270 * t);
-        X1 += 0.00000000087 * Math.cos(0.74054571271 + 3181.6689089166 * t);
-        X1 += 0.00000000092 * Math.cos(0.03551083643 + 2171.0241752912 * t);
-        X1 += 0.00000000106 * Math.cos(0.39435918202 + 7214.4389368432 * t);
-        X1 += 0.00000000080 * Math.cos(4.89623642688 + 21548.9623692918 * t);
-        X1 += 0.00000000095 * Math.cos(3.86710302337 + 1655.5603041982 * t);
-        X1 += 0.00000000079 * Math.cos(3.24890951492 + 5562.4690612968 * t);
-        X1 += 0.00000000079 * Math.cos(0.57799144801 + 1169.5882514086 * t);
-        X1 += 0.00000000090 * Math.cos(1.80974604093 + 685.044054226 * t);
-        X1 += 0.00000000077 * Math.cos(2.05069186337 + 4001.8453534808 * t);
-        X1 += 0.00000000083 * Math.cos(2.81952591797 + 18451.07854656599 * t);
-        X1 += 0.00000000103 * Math.cos(4.88584162251 + 6279.5527316424 * t);
-        X1 += 0.00000000076 * Math.cos(3.67755551442 + 1107.1388056848 * t);
-        X1 += 0.00000000075 * Math.cos(2.93994155162 + 6710.6543619356 * t);
-        X1 += 0.00000000075 * Math.cos(5.60783359680 + 3528.5375744624 * t);
-        X1 += 0.00000000100 * Math.cos(2.80459580595 + 6653.8232973028 * t);
-        X1 += 0.00000000085 * Math.cos(4.61572252590 + 3649.8907493556 * t);
-        X1 += 0.00000000085 * Math.cos(4.64963704633 + 3031.334104044 * t);
-        X1 += 0.00000000077 * Math.cos(5.54299564494 + 3909.4343007272 * t);
-        X1 += 0.00000000102 * Math.cos(4.85789296676 + 3282.733730696 * t);
-        X1 += 0.00000000102 * Math.cos(4.40746660547 + 3398.4911227036 * t);
-        X1 += 0.00000000079 * Math.cos(5.10886333624 + 12725.453434775 * t);
-        X1 += 0.00000000077 * Math.cos(0.97230677876 + 20199.02764933019 * t);
-        X1 += 0.00000000073 * Math.cos(5.35302732038 + 13369.56325380 * t);
-        X1 += 0.00000000097 * Math.cos(1.78236800999 + 6784.3176276182 * t);
-        X1 += 0.00000000076 * Math.cos(2.30483356242 + 42153.969003049 * t);
-        X1 += 0.00000000092 * Math.cos(2.49268078499 + 3492.509707785 * t);
-        X1 += 0.00000000076 * Math.cos(2.72692408287 + 19403.7772738848 * t);
-        X1 += 0.00000000080 * Math.cos(4.32028390750 + 8756.269801473 * t);
-        X1 += 0.00000000073 * Math.cos(2.28908779860 + 6364.832983743 * t);
-        X1 += 0.00000000077 * Math.cos(2.43358799510 + 6549.6828917132 * t);
-        X1 += 0.00000000088 * Math.cos(1.61112169044 + 7373.3824546264 * t);
-        X1 += 0.00000000088 * Math.cos(6.05418512374 + 11883.5831327348 * t);
-        X1 += 0.00000000076 * Math.cos(2.05515548312 + 1648.4467571974 * t);
-        X1 += 0.00000000093 * Math.cos(3.37029033662 + 10050.2864675672 * t);
-        X1 += 0.00000000069 * Math.cos(3.45210180674 + 45088.6697556246 * t);
-        X1 += 0.00000000071 * Math.cos(1.53845739804 + 2067.9314010726 * t);
-        X1 += 0.00000000069 * Math.cos(6.03997221898 + 1279.794572628 * t);
-        X1 += 0.00000000077 * Math.cos(1.09192682751 + 14128.2427712456 * t);
-        X1 += 0.00000000077 * Math.cos(0.47271097966 + 5466.489834079 * t);
-        X1 += 0.00000000079 * Math.cos(1.37643636344 + 3329.5667264359 * t);
-        X1 += 0.00000000079 * Math.cos(1.60573790161 + 3351.6581269637 * t);
-        X1 += 0.00000000074 * Math.cos(4.22088803290 + 25135.8265183146 * t);
-        X1 += 0.00000000073 * Math.cos(5.09768244843 + 10177.1903692308 * t);
-        X1 += 0.00000000067 * Math.cos(4.84562417862 + 5401.4302807716 * t);
-        X1 += 0.00000000074 * Math.cos(5.01417193973 + 15636.566656309 * t);
-        X1 += 0.00000000069 * Math.cos(5.04985271939 + 11353.8921676402 * t);
-        X1 += 0.00000000070 * Math.cos(1.71545157762 + 20809.4676246452 * t);
-        X1 += 0.00000000070 * Math.cos(3.89845786360 + 35707.7100829074 * t);
-        X1 += 0.00000000076 * Math.cos(3.13060444340 + 41748.0573289248 * t);
-        X1 += 0.00000000092 * Math.cos(6.14040930433 + 3613.2853840514 * t);
-        X1 += 0.00000000093 * Math.cos(2.21933485500 + 8584.6616659008 * t);
-        X1 += 0.00000000068 * Math.cos(3.93351376319 + 25287.7237993998 * t);
-        X1 += 0.00000000066 * Math.cos(5.64046802071 + 2011.1003364398 * t);
-        X1 += 0.00000000088 * Math.cos(3.09948179111 + 3067.9394693482 * t);
-        X1 += 0.00000000074 * Math.cos(2.14829362492 + 3264.3463554242 * t);
-        X1 += 0.00000000065 * Math.cos(5.23756710566 + 8859.3625756916 * t);
-        X1 += 0.00000000069 * Math.cos(1.59516547033 + 43738.8023459658 * t);
-        X1 += 0.00000000068 * Math.cos(4.77227301127 + 44959.5476759902 * t);
-        X1 += 0.00000000065 * Math.cos(0.76344895489 + 6708.6264094964 * t);
-        X1 += 0.00000000090 * Math.cos(5.15547486786 + 6740.5987153132 * t);
-        X1 += 0.00000000064 * Math.cos(4.35344254893 + 9801.4246376606 * t);
-        X1 += 0.00000000065 * Math.cos(0.10650340635 + 4140.4335518652 * t);
-        X1 += 0.00000000079 * Math.cos(0.61232080062 + 2125.8100970764 * t);
-        X1 += 0.00000000087 * Math.cos(5.05289595532 + 9859.3706439672 * t);
-        X1 += 0.00000000065 * Math.cos(0.93949119244 + 6680.804777306 * t);
-        X1 += 0.00000000064 * Math.cos(1.91199168938 + 4356.275444584 * t);
-        X1 += 0.00000000064 * Math.cos(2.03767686794 + 169.580183133 * t);
-        X1 += 0.00000000067 * Math.cos(3.96144093290 + 11236.57229942 * t);
-        X1 += 0.00000000066 * Math.cos(1.08249803836 + 3414.213382615 * t);
-        X1 += 0.00000000066 * Math.cos(1.89967622669 + 3267.0114707846 * t);
-        X1 += 0.00000000072 * Math.cos(1.91502043985 + 16858.41522263039 * t);
-        X1 += 0.00000000064 * Math.cos(0.70379327004 + 3193.8007401762 * t);
-        X1 += 0.00000000064 * Math.cos(2.27838099501 + 3487.4241132234 * t);
-        X1 += 0.00000000084 * Math.cos(3.00203948568 + 43340.6533425576 * t);
-        X1 += 0.00000000062 * Math.cos(3.24790025898 + 18461.71521191579 * t);
-        X1 += 0.00000000068 * Math.cos(4.85546258492 + 12808.8803039568 * t);
-        X1 += 0.00000000068 * Math.cos(1.99986373490 + 6614.7374444852 * t);
-        X1 += 0.00000000085 * Math.cos(3.13403835930 + 10730.82708237599 * t);
-        X1 += 0.00000000066 * Math.cos(0.00739681430 + 9997.9588423516 * t);
-        X1 += 0.00000000065 * Math.cos(6.00702384673 + 40796.33892267419 * t);
-        X1 += 0.00000000060 * Math.cos(1.33665515740 + 31022.7531708562 * t);
-        X1 += 0.00000000078 * Math.cos(4.87574960971 + 5202.3582793352 * t);
-        X1 += 0.00000000062 * Math.cos(2.19007422012 + 20040.15144184979 * t);
-        X1 += 0.00000000062 * Math.cos(4.40813798952 + 931.3630868518 * t);
-        X1 += 0.00000000067 * Math.cos(3.79488721755 + 17256.6315363414 * t);
-        X1 += 0.00000000063 * Math.cos(4.58199428968 + 25841.29320224219 * t);
-        X1 += 0.00000000083 * Math.cos(1.19841622691 + 40398.189919266 * t);
-        X1 += 0.00000000059 * Math.cos(3.38669312921 + 15121.102785216 * t);
-        X1 += 0.00000000063 * Math.cos(1.57226486603 + 20742.9457084264 * t);
-        X1 += 0.00000000060 * Math.cos(5.59502027006 + 10016.314355792 * t);
-        X1 += 0.00000000059 * Math.cos(1.02843579673 + 4039.8835749274 * t);
-        X1 += 0.00000000077 * Math.cos(3.19342928141 + 24606.13555322 * t);
-        X1 += 0.00000000067 * Math.cos(4.66236805003 + 9329.6796788726 * t);
-        X1 += 0.00000000077 * Math.cos(3.07641411027 + 4775.7600884592 * t);
-        X1 += 0.00000000064 * Math.cos(0.87689051214 + 22743.4093795164 * t);
-        X1 += 0.00000000080 * Math.cos(2.57223661352 + 27417.0570148252 * t);
-        X1 += 0.00000000057 * Math.cos(0.14845243910 + 12928.7379689224 * t);
-        X1 += 0.00000000057 * Math.cos(6.14189596874 + 3116.2676309979 * t);
-        X1 += 0.00000000072 * Math.cos(0.71597283003 + 20213.25474333179 * t);
-        X1 += 0.00000000062 * Math.cos(1.28366951998 + 12988.111830836 * t);
-        X1 += 0.00000000059 * Math.cos(1.99226268966 + 5945.3483398678 * t);
-        X1 += 0.00000000058 * Math.cos(0.15519898436 + 15423.267560871 * t);
-        X1 += 0.00000000063 * Math.cos(2.24244167800 + 9161.5273513466 * t);
-        X1 += 0.00000000062 * Math.cos(2.96487774215 + 3357.44462774959 * t);
-        X1 += 0.00000000062 * Math.cos(0.01729652290 + 3323.78022565 * t);
-        X1 += 0.00000000056 * Math.cos(3.18297061340 + 2978.491289969 * t);
-        X1 += 0.00000000056 * Math.cos(6.08238895883 + 3702.7335634306 * t);
-        X1 += 0.00000000058 * Math.cos(0.08427617394 + 45884.967762441 * t);
-        X1 += 0.00000000055 * Math.cos(0.16321552353 + 21150.8133658836 * t);
-        X1 += 0.00000000055 * Math.cos(5.55880158727 + 12715.4388734844 * t);
-        X1 += 0.00000000055 * Math.cos(4.28741629288 + 23539.7073863328 * t);
-        X1 += 0.00000000068 * Math.cos(4.10576652903 + 14867.73751589219 * t);
-        X1 += 0.00000000054 * Math.cos(1.14764721709 + 5607.6158292088 * t);
-        X1 += 0.00000000053 * Math.cos(4.66773371614 + 6788.8883773382 * t);
-        X1 += 0.00000000058 * Math.cos(1.79522116123 + 3412.6681600546 * t);
-        X1 += 0.00000000058 * Math.cos(1.18695310382 + 3268.556693345 * t);
-        X1 += 0.00000000053 * Math.cos(3.76957096107 + 14481.205498902 * t);
-        X1 += 0.00000000052 * Math.cos(4.72089853524 + 6812.766815086 * t);
-        X1 += 0.00000000054 * Math.cos(1.09546286956 + 18849.2275499742 * t);
-        X1 += 0.00000000059 * Math.cos(0.84746741291 + 5223.6939198022 * t);
-        X1 += 0.00000000052 * Math.cos(1.21145236574 + 4885.9664096786 * t);
-        X1 += 0.00000000072 * Math.cos(2.61949743639 + 3339.1279539915 * t);
-        X1 += 0.00000000072 * Math.cos(0.36267682866 + 3342.0968994081 * t);
-        X1 += 0.00000000051 * Math.cos(1.67605837812 + 45486.81875903279 * t);
-        X1 += 0.00000000056 * Math.cos(3.58453638929 + 8742.0427074714 * t);
-        X1 += 0.00000000051 * Math.cos(0.67722361596 + 16328.72425753579 * t);
-        X1 += 0.00000000056 * Math.cos(3.08675956518 + 38252.0245027908 * t);
-        X1 += 0.00000000051 * Math.cos(6.16661497571 + 12410.7313005486 * t);
-        X1 += 0.00000000051 * Math.cos(2.81432959139 + 8226.5788363784 * t);
-        X1 += 0.00000000054 * Math.cos(3.63357334815 + 2735.762685995 * t);
-        X1 += 0.00000000050 * Math.cos(4.57016485329 + 37895.4262903674 * t);
-        X1 += 0.00000000052 * Math.cos(0.45515480683 + 24491.4257925834 * t);
-        X1 += 0.00000000061 * Math.cos(4.37761588455 + 2655.501062171 * t);
-        X1 += 0.00000000059 * Math.cos(5.82888387525 + 12516.366872048 * t);
-        X1 += 0.00000000050 * Math.cos(1.66655026369 + 1727.6610936682 * t);
-        X1 += 0.00000000066 * Math.cos(5.34326577091 + 24889.5747959916 * t);
-        X1 += 0.00000000050 * Math.cos(0.17458517639 + 39048.3225096072 * t);
-        X1 += 0.00000000050 * Math.cos(3.27629040044 + 3564.9572224017 * t);
-        X1 += 0.00000000054 * Math.cos(1.32205785496 + 20426.571092422 * t);
-        X1 += 0.00000000049 * Math.cos(2.48409394399 + 20597.2439630412 * t);
-        X1 += 0.00000000049 * Math.cos(4.63364250237 + 24341.5283174566 * t);
-        X1 += 0.00000000050 * Math.cos(3.76507954507 + 3742.284548457 * t);
-        X1 += 0.00000000048 * Math.cos(1.55434770619 + 1883.0814931024 * t);
-        X1 += 0.00000000049 * Math.cos(3.03989562226 + 55516.4187098482 * t);
-        X1 += 0.00000000061 * Math.cos(3.94494596275 + 19617.07636932279 * t);
-        X1 += 0.00000000048 * Math.cos(1.52458359680 + 19190.4781784468 * t);
-        X1 += 0.00000000058 * Math.cos(5.44186494913 + 6850.8050365326 * t);
-        X1 += 0.00000000048 * Math.cos(1.96356727887 + 32765.2466596158 * t);
-        X1 += 0.00000000047 * Math.cos(2.93243058228 + 33163.395663024 * t);
-        X1 += 0.00000000048 * Math.cos(4.86897928188 + 10191.4174632324 * t);
-        X1 += 0.00000000051 * Math.cos(4.70671034765 + 5749.8617665478 * t);
-        X1 += 0.00000000048 * Math.cos(3.54075354094 + 8186.5126624926 * t);
-        X1 += 0.00000000056 * Math.cos(3.12983717848 + 21265.5231265202 * t);
-        X1 += 0.00000000047 * Math.cos(0.77055080600 + 11876.469585734 * t);
-        X1 += 0.00000000047 * Math.cos(5.80552800681 + 2257.3520587628 * t);
-        X1 += 0.00000000047 * Math.cos(0.45636881038 + 17412.0519357756 * t);
-        X1 += 0.00000000046 * Math.cos(4.54640434990 + 16865.5287696312 * t);
-        X1 += 0.00000000052 * Math.cos(0.28783495350 + 1971.9521738548 * t);
-        X1 += 0.00000000046 * Math.cos(1.52797216731 + 44768.0994098786 * t);
-        X1 += 0.00000000051 * Math.cos(4.39123984507 + 5408.5438277724 * t);
-        X1 += 0.00000000064 * Math.cos(3.04718021414 + 1329.51209026 * t);
-        X1 += 0.00000000049 * Math.cos(4.82698586048 + 41194.4879260824 * t);
-        X1 += 0.00000000046 * Math.cos(0.27726411537 + 1795.258443721 * t);
-        X1 += 0.00000000055 * Math.cos(4.04641676667 + 4403.517475238 * t);
-        X1 += 0.00000000048 * Math.cos(0.33955507055 + 14955.045720432 * t);
-        X1 += 0.00000000059 * Math.cos(2.13527332496 + 4289.7880356696 * t);
-        X1 += 0.00000000048 * Math.cos(1.20681354241 + 7799.9806455024 * t);
-        X1 += 0.00000000048 * Math.cos(0.93062224202 + 1859.2030553546 * t);
-        X1 += 0.00000000052 * Math.cos(2.17634391560 + 2963.238818784 * t);
-        X1 += 0.00000000052 * Math.cos(0.80583034945 + 3717.9860346156 * t);
-        X1 += 0.00000000055 * Math.cos(5.22964407608 + 41236.0387170672 * t);
-        X1 += 0.00000000060 * Math.cos(5.46859138107 + 10184.3039162316 * t);
-        X1 += 0.00000000054 * Math.cos(1.04311727476 + 1055.8588118402 * t);
-        X1 += 0.00000000045 * Math.cos(3.15304645241 + 3973.396166013 * t);
-        X1 += 0.00000000046 * Math.cos(0.11011885467 + 5881.4037282342 * t);
-        X1 += 0.00000000044 * Math.cos(5.80928344240 + 3436.5916539176 * t);
-        X1 += 0.00000000044 * Math.cos(3.45607612983 + 3244.633199482 * t);
-        X1 += 0.00000000045 * Math.cos(4.67010491199 + 1265.5674786264 * t);
-        X1 += 0.00000000044 * Math.cos(6.06741551089 + 17499.3601403154 * t);
-        X1 += 0.00000000045 * Math.cos(2.74401480845 + 16063.164847185 * t);
-        X1 += 0.00000000043 * Math.cos(5.89567366882 + 97670.38771289718 * t);
-        X1 += 0.00000000059 * Math.cos(5.12096194189 + 2523.9591004846 * t);
-        X1 += 0.00000000053 * Math.cos(0.56190542057 + 8336.7851575978 * t);
-        X1 += 0.00000000046 * Math.cos(1.93691391876 + 48827.4311857326 * t);
-        X1 += 0.00000000043 * Math.cos(5.31424179395 + 12199.9750023914 * t);
-        X1 += 0.00000000045 * Math.cos(1.21490188964 + 15849.865751747 * t);
-        X1 += 0.00000000054 * Math.cos(4.78336772882 + 46283.11676584919 * t);
-        X1 += 0.00000000046 * Math.cos(1.35241852548 + 9175.7544453482 * t);
-        X1 += 0.00000000042 * Math.cos(5.91236045456 + 12729.665967486 * t);
-        X1 += 0.00000000043 * Math.cos(1.90861231305 + 8123.4860621598 * t);
-        X1 += 0.00000000046 * Math.cos(1.99777333547 + 2324.9494088156 * t);
-        X1 += 0.00000000043 * Math.cos(0.22627419016 + 3826.5844794894 * t);
-        X1 += 0.00000000043 * Math.cos(2.75590007489 + 2854.6403739102 * t);
-        X1 += 0.00000000042 * Math.cos(3.52116061372 + 15106.8756912144 * t);
-        X1 += 0.00000000042 * Math.cos(0.81055569531 + 2651.977943822 * t);
-        X1 += 0.00000000048 * Math.cos(1.95445508213 + 12825.6451947038 * t);
-        X1 += 0.00000000052 * Math.cos(5.96852999978 + 6666.997759398 * t);
-        X1 += 0.00000000041 * Math.cos(5.80749281310 + 28230.18722269139 * t);
-        X1 += 0.00000000041 * Math.cos(0.71986367040 + 3385.26625994 * t);
-        X1 += 0.00000000041 * Math.cos(2.26231059465 + 3295.9585934596 * t);
-        X1 += 0.00000000043 * Math.cos(3.41912327203 + 46681.2657692574 * t);
-        X1 += 0.00000000040 * Math.cos(1.93891342372 + 20728.71861442479 * t);
-        X1 += 0.00000000044 * Math.cos(0.93617830235 + 29698.2875113358 * t);
-        X1 += 0.00000000052 * Math.cos(4.86200797685 + 3382.1632176846 * t);
-        X1 += 0.00000000052 * Math.cos(4.40335159538 + 3299.061635715 * t);
-        X1 += 0.00000000041 * Math.cos(3.51246679511 + 4670.1245169598 * t);
-        X1 += 0.00000000055 * Math.cos(4.06333971351 + 11527.1250891924 * t);
-        X1 += 0.00000000046 * Math.cos(3.58080161750 + 19247.3765533824 * t);
-        X1 += 0.00000000049 * Math.cos(3.97694940593 + 17660.303464057 * t);
-        X1 += 0.00000000039 * Math.cos(3.67004654616 + 742.9900605326 * t);
-        X1 += 0.00000000041 * Math.cos(5.43088708578 + 14469.588512484 * t);
-        X1 += 0.00000000049 * Math.cos(4.88920858356 + 4025.7237912286 * t);
-        X1 += 0.00000000052 * Math.cos(4.89208735007 + 1854.6323056346 * t);
-        X1 += 0.00000000040 * Math.cos(0.34615539895 + 22487.3716928416 * t);
-        X1 += 0.00000000039 * Math.cos(4.73492562151 + 36105.8590863156 * t);
-        X1 += 0.00000000048 * Math.cos(5.93890351626 + 17810.2009391838 * t);
-        X1 += 0.00000000052 * Math.cos(2.35533747956 + 1461.0540519464 * t);
-        X1 += 0.00000000045 * Math.cos(1.15223938219 + 3966.2826190122 * t);
-        X1 += 0.00000000045 * Math.cos(1.82993488286 + 2714.9422343874 * t);
-        X1 += 0.00000000039 * Math.cos(3.39974448088 + 2714.9872905026 * t);
-        X1 += 0.00000000038 * Math.cos(0.95007899496 + 3017.1070100424 * t);
-        X1 += 0.00000000041 * Math.cos(0.93833632650 + 29580.05463235019 * t);
-        X1 += 0.00000000040 * Math.cos(5.63094433725 + 3945.4621674046 * t);
-        X1 += 0.00000000039 * Math.cos(1.83440091550 + 5511.636601991 * t);
-        X1 += 0.00000000038 * Math.cos(0.92745494032 + 19683.5637782372 * t);
-        X1 += 0.00000000037 * Math.cos(2.01049423891 + 24093.2767891752 * t);
-        X1 += 0.00000000037 * Math.cos(3.25942117402 + 34115.1140692746 * t);
-        X1 += 0.00000000038 * Math.cos(3.03103285294 + 1484.9324896942 * t);
-        X1 += 0.00000000036 * Math.cos(4.01044559220 + 2089.782230399 * t);
-        X1 += 0.00000000048 * Math.cos(4.51776273502 + 3337.021998048 * t);
-        X1 += 0.00000000050 * Math.cos(3.78005099607 + 526.1678467456 * t);
-        X1 += 0.00000000037 * Math.cos(5.37456678141 + 9384.8410080752 * t);
-        X1 += 0.00000000049 * Math.cos(1.45163270526 + 19406.6782881746 * t);
-        X1 += 0.00000000041 * Math.cos(4.75007748416 + 7788.3636590844 * t);
-        X1 += 0.00000000049 * Math.cos(0.82675139376 + 10787.6303445458 * t);
-        X1 += 0.00000000036 * Math.cos(2.23324188355 + 3762.6398678558 * t);
-        X1 += 0.00000000036 * Math.cos(0.74893238150 + 2918.5849855438 * t);
-        X1 += 0.00000000046 * Math.cos(4.61984768217 + 33716.9650658664 * t);
-        X1 += 0.00000000036 * Math.cos(2.78855553852 + 4555.4147563232 * t);
-        X1 += 0.00000000035 * Math.cos(5.14747937595 + 38086.874556479 * t);
-        X1 += 0.00000000046 * Math.cos(0.18369837651 + 12995.2253778368 * t);
-        X1 += 0.00000000039 * Math.cos(4.40871687727 + 3337.1566186536 * t);
-        X1 += 0.00000000039 * Math.cos(1.71505004137 + 3344.068234746 * t);
-        X1 += 0.00000000035 * Math.cos(2.98972560975 + 1685.0521225016 * t);
-        X1 += 0.00000000042 * Math.cos(2.75958322656 + 20235.1228263104 * t);
-        X1 += 0.00000000038 * Math.cos(0.87453118322 + 3070.482266629 * t);
-        X1 += 0.00000000038 * Math.cos(2.10764308183 + 3610.7425867706 * t);
-        X1 += 0.00000000035 * Math.cos(0.28028637947 + 4716.3862265456 * t);
-        X1 += 0.00000000036 * Math.cos(3.71936683570 + 6644.6194880954 * t);
-        X1 += 0.00000000034 * Math.cos(0.98572990463 + 7483.5887758458 * t);
-        X1 += 0.00000000034 * Math.cos(2.54855926411 + 17013.9029323674 * t);
-        X1 += 0.00000000035 * Math.cos(4.67041494149 + 15010.8964639966 * t);
-        X1 += 0.00000000039 * Math.cos(3.55482379885 + 11567.1912630782 * t);
-        X1 += 0.00000000034 * Math.cos(2.21874368771 + 35066.8324755252 * t);
-        X1 += 0.00000000034 * Math.cos(3.41493668202 + 13355.3361597984 * t);
-        X1 += 0.00000000035 * Math.cos(2.19172942691 + 24076.4445881254 * t);
-        X1 += 0.00000000038 * Math.cos(2.60968429334 + 38407.44490222499 * t);
-        X1 += 0.00000000034 * Math.cos(6.10754117263 + 3370.49447031 * t);
-        X1 += 0.00000000034 * Math.cos(3.15781839960 + 3310.7303830896 * t);
-        X1 += 0.00000000034 * Math.cos(3.37432102293 + 35863.1304823416 * t);
-        X1 += 0.00000000034 * Math.cos(2.23479435038 + 27433.88921587499 * t);
-        X1 += 0.00000000033 * Math.cos(0.02993950047 + 12502.1397780464 * t);
-        X1 += 0.00000000036 * Math.cos(2.64058681926 + 12082.6551341712 * t);
-        X1 += 0.00000000034 * Math.cos(1.60125162195 + 16702.9948231962 * t);
-        X1 += 0.00000000033 * Math.cos(4.31458198768 + 14164.8136292454 * t);
-        X1 += 0.00000000033 * Math.cos(1.25769705892 + 3723.4917052708 * t);
-        X1 += 0.00000000033 * Math.cos(1.72447720613 + 2957.7331481288 * t);
-        X1 += 0.00000000045 * Math.cos(4.14510215726 + 4157.26575291499 * t);
-        X1 += 0.00000000036 * Math.cos(2.71350040422 + 25685.872802808 * t);
-        X1 += 0.00000000033 * Math.cos(1.50589018147 + 7447.017917846 * t);
-        X1 += 0.00000000041 * Math.cos(3.99160574782 + 13532.0298899322 * t);
-        X1 += 0.00000000032 * Math.cos(3.45719416276 + 4423.8727946368 * t);
-        X1 += 0.00000000035 * Math.cos(1.62135425259 + 36261.2794857498 * t);
-        X1 += 0.00000000032 * Math.cos(4.56663489191 + 1197.9701285736 * t);
-        X1 += 0.00000000032 * Math.cos(2.17440447339 + 4029.2469095776 * t);
-        X1 += 0.00000000035 * Math.cos(0.39535447916 + 16335.8378045366 * t);
-        X1 += 0.00000000033 * Math.cos(4.72062621160 + 48300.16010269 * t);
-        X1 += 0.00000000034 * Math.cos(5.01181553881 + 8329.671610597 * t);
-        X1 += 0.00000000042 * Math.cos(3.79728412833 + 12979.553174576 * t);
-        X1 += 0.00000000031 * Math.cos(3.59075365022 + 3101.4069410748 * t);
-        X1 += 0.00000000031 * Math.cos(5.67460592201 + 3579.8179123248 * t);
-        X1 += 0.00000000043 * Math.cos(0.82862094100 + 27832.0382192832 * t);
-        X1 += 0.00000000034 * Math.cos(4.39751248435 + 41349.90832551659 * t);
-        X1 += 0.00000000043 * Math.cos(5.43675272730 + 13524.9163429314 * t);
-        X1 += 0.00000000031 * Math.cos(2.07097435521 + 13605.1783107732 * t);
-        X1 += 0.00000000037 * Math.cos(2.07977700827 + 39601.8919124496 * t);
-        X1 += 0.00000000035 * Math.cos(4.56839370692 + 21393.5419698576 * t);
-        X1 += 0.00000000033 * Math.cos(0.82205966845 + 31405.6497030794 * t);
-        X1 += 0.00000000039 * Math.cos(2.12497217177 + 27490.6924780448 * t);
-        X1 += 0.00000000030 * Math.cos(3.44459112109 + 32769.1279949738 * t);
-        X1 += 0.00000000034 * Math.cos(2.17000850508 + 17932.0242468212 * t);
-        X1 += 0.00000000035 * Math.cos(5.88545521905 + 8013.2797409404 * t);
-        X1 += 0.00000000030 * Math.cos(0.12554648686 + 9918.7445058808 * t);
-        X1 += 0.00000000030 * Math.cos(2.43888170119 + 14577.1847261198 * t);
-        X1 += 0.00000000040 * Math.cos(0.81846047046 + 25827.9841195414 * t);
-        X1 += 0.00000000031 * Math.cos(4.29031124486 + 16872.642316632 * t);
-        X1 += 0.00000000029 * Math.cos(5.30776430092 + 51371.74560561599 * t);
-        X1 += 0.00000000032 * Math.cos(3.68482314695 + 37455.7264959744 * t);
-        X1 += 0.00000000031 * Math.cos(5.07041841878 + 20995.3929664494 * t);
-        X1 += 0.00000000039 * Math.cos(0.37839660841 + 49225.5801891408 * t);
-        X1 += 0.00000000040 * Math.cos(4.64409927989 + 3524.48201360179 * t);
-        X1 += 0.00000000040 * Math.cos(4.62126029234 + 3156.7428397978 * t);
-        X1 += 0.00000000029 * Math.cos(4.08340266458 + 13002.3389248376 * t);
-        X1 += 0.00000000030 * Math.cos(5.88423372643 + 3966.237562897 * t);
-        X1 += 0.00000000029 * Math.cos(3.75228066304 + 27035.7402124668 * t);
-        X1 += 0.00000000031 * Math.cos(3.28649465397 + 9072.6616711296 * t);
-        X1 += 0.00000000034 * Math.cos(4.02588507696 + 39203.74290904139 * t);
-        X1 += 0.00000000031 * Math.cos(2.79021094717 + 6836.577942531 * t);
-        X1 += 0.00000000031 * Math.cos(2.80265827190 + 32522.5180556418 * t);
-        X1 += 0.00000000030 * Math.cos(5.02614281951 + 48031.1331789162 * t);
-        X1 += 0.00000000035 * Math.cos(5.83659262134 + 52175.8062831484 * t);
-        X1 += 0.00000000030 * Math.cos(2.21054451262 + 17232.7530985936 * t);
-        X1 += 0.00000000029 * Math.cos(4.31668048941 + 13517.8027959306 * t);
-        X1 += 0.00000000036 * Math.cos(4.88412474614 + 13673.2905056676 * t);
-        X1 += 0.00000000029 * Math.cos(4.73853919399 + 20206.141196331 * t);
-        X1 += 0.00000000038 * Math.cos(4.73546246413 + 44690.52075221639 * t);
-        X1 += 0.00000000028 * Math.cos(1.14267246129 + 4953.5637597314 * t);
-        X1 += 0.00000000028 * Math.cos(4.59940622354 + 27682.1407441564 * t);
-        X1 += 0.00000000037 * Math.cos(1.43444323103 + 20752.6643624754 * t);
-        X1 += 0.00000000029 * Math.cos(2.04719144598 + 4822.021798045 * t);
-        X1 += 0.00000000032 * Math.cos(4.95467699991 + 4503.0871311076 * t);
-        X1 += 0.00000000035 * Math.cos(6.09811364462 + 5351.7127631396 * t);
-        X1 += 0.00000000028 * Math.cos(1.88347587403 + 5835.1420186484 * t);
-        X1 += 0.00000000032 * Math.cos(4.75015473737 + 33561.5446664322 * t);
-        X1 += 0.00000000028 * Math.cos(4.73177992569 + 21000.9158907568 * t);
-        X1 += 0.00000000032 * Math.cos(1.13197722780 + 6830.7880505342 * t);
-        X1 += 0.00000000028 * Math.cos(1.79662683475 + 38813.3565763492 * t);
-        X1 += 0.00000000035 * Math.cos(3.61429802237 + 3303.6168360888 * t);
-        X1 += 0.00000000035 * Math.cos(5.65106154986 + 3377.6080173108 * t);
-        X1 += 0.00000000028 * Math.cos(5.46343987576 + 3348.3750974158 * t);
-        X1 += 0.00000000028 * Math.cos(3.80191969647 + 3332.8497559838 * t);
-        X1 += 0.00000000029 * Math.cos(1.90513835738 + 41990.7859328988 * t);
-        X1 += 0.00000000028 * Math.cos(5.47234972246 + 7345.9808985296 * t);
-        X1 += 0.00000000030 * Math.cos(4.27109031036 + 30376.3526391666 * t);
-        X1 += 0.00000000031 * Math.cos(0.45001645109 + 23937.856389741 * t);
-        X1 += 0.00000000032 * Math.cos(0.28043081427 + 36659.428489158 * t);
-        X1 += 0.00000000027 * Math.cos(2.52697440495 + 7534.4212351516 * t);
-        X1 += 0.00000000028 * Math.cos(2.02156853747 + 3517.3061568336 * t);
-        X1 += 0.00000000028 * Math.cos(0.96060572758 + 3163.918696566 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 387 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00056323939;
-        X2 += 0.00022122528 * Math.cos(3.54372113272 + 6681.2248533996 * t);
-        X2 += 0.00006091409 * Math.cos(3.93272649649 + 10021.8372800994 * t);
-        X2 += 0.00001451998 * Math.cos(3.64655666460 + 3340.6124266998 * t);
-        X2 += 0.00001130613 * Math.cos(4.28827023222 + 13362.4497067992 * t);
-        X2 += 0.00000182610 * Math.cos(4.63522660125 + 16703.062133499 * t);
-        X2 += 0.00000168904 * Math.cos(4.68797825494 + 3344.1355450488 * t);
-        X2 += 0.00000168384 * Math.cos(4.57974326642 + 3337.0893083508 * t);
-        X2 += 0.00000094103 * Math.cos(0.94931392640 + 3185.1920272656 * t);
-        X2 += 0.00000089578 * Math.cos(2.03782745090 + 3496.032826134 * t);
-        X2 += 0.00000040689 * Math.cos(5.03331696992 + 6684.7479717486 * t);
-        X2 += 0.00000036711 * Math.cos(1.77362889167 + 1059.3819301892 * t);
-        X2 += 0.00000027549 * Math.cos(4.97859663329 + 20043.6745601988 * t);
-        X2 += 0.00000024699 * Math.cos(3.63560534183 + 3149.1641605882 * t);
-        X2 += 0.00000023325 * Math.cos(5.63009151781 + 3532.0606928114 * t);
-        X2 += 0.00000024321 * Math.cos(5.77247656014 + 2544.3144198834 * t);
-        X2 += 0.00000020394 * Math.cos(3.48794506814 + 4136.9104335162 * t);
-        X2 += 0.00000018400 * Math.cos(3.45575979446 + 3097.88382272579 * t);
-        X2 += 0.00000017395 * Math.cos(4.34131723760 + 2942.4634232916 * t);
-        X2 += 0.00000016954 * Math.cos(5.82560293948 + 3583.3410306738 * t);
-        X2 += 0.00000015902 * Math.cos(1.21784323807 + 5621.8429232104 * t);
-        X2 += 0.00000015422 * Math.cos(4.94008572158 + 3738.761430108 * t);
-        X2 += 0.00000016238 * Math.cos(1.67605938145 + 1194.4470102246 * t);
-        X2 += 0.00000013282 * Math.cos(5.16082361704 + 1990.745017041 * t);
-        X2 += 0.00000016878 * Math.cos(2.35542567714 + 2787.0430238574 * t);
-        X2 += 0.00000012675 * Math.cos(3.75990218127 + 2388.8940204492 * t);
-        X2 += 0.00000011826 * Math.cos(3.08038008170 + 796.2980068164 * t);
-        X2 += 0.00000015232 * Math.cos(0.27850117251 + 1592.5960136328 * t);
-        X2 += 0.00000012328 * Math.cos(2.14974361562 + 3341.592747768 * t);
-        X2 += 0.00000011303 * Math.cos(1.30198187106 + 6525.8044539654 * t);
-        X2 += 0.00000012311 * Math.cos(0.83471101077 + 3339.6321056316 * t);
-        X2 += 0.00000013670 * Math.cos(2.56874755004 + 155.4203994342 * t);
-        X2 += 0.00000010589 * Math.cos(2.17033819409 + 4399.994356889 * t);
-        X2 += 0.00000014260 * Math.cos(0.66247586522 + 3894.1818295422 * t);
-        X2 += 0.00000009461 * Math.cos(5.56716533452 + 4292.3308329504 * t);
-        X2 += 0.00000008649 * Math.cos(4.16531779363 + 4690.4798363586 * t);
-        X2 += 0.00000011404 * Math.cos(0.98319348386 + 2146.1654164752 * t);
-        X2 += 0.00000008129 * Math.cos(5.35446918646 + 10025.3603984484 * t);
-        X2 += 0.00000007991 * Math.cos(1.31255637184 + 5486.777843175 * t);
-        X2 += 0.00000008339 * Math.cos(1.24221111371 + 2957.7158944766 * t);
-        X2 += 0.00000007581 * Math.cos(2.30465249120 + 1589.0728952838 * t);
-        X2 += 0.00000007544 * Math.cos(1.76180463973 + 3723.508958923 * t);
-        X2 += 0.00000008875 * Math.cos(2.08456580754 + 4535.0594369244 * t);
-        X2 += 0.00000008569 * Math.cos(2.73774413655 + 5088.6288397668 * t);
-        X2 += 0.00000006135 * Math.cos(5.37763512493 + 7079.3738568078 * t);
-        X2 += 0.00000006874 * Math.cos(2.67519964091 + 1748.016413067 * t);
-        X2 += 0.00000006049 * Math.cos(1.12213947386 + 553.5694028424 * t);
-        X2 += 0.00000005340 * Math.cos(5.92227683481 + 951.7184062506 * t);
-        X2 += 0.00000005445 * Math.cos(5.43458926991 + 242.728603974 * t);
-        X2 += 0.00000005288 * Math.cos(6.18849260834 + 5884.9268465832 * t);
-        X2 += 0.00000005585 * Math.cos(4.35867442726 + 1349.8674096588 * t);
-        X2 += 0.00000005880 * Math.cos(5.02337312439 + 7.1135470008 * t);
-        X2 += 0.00000005051 * Math.cos(2.18016149522 + 2274.1169495098 * t);
-        X2 += 0.00000004770 * Math.cos(0.36305129741 + 3333.498879699 * t);
-        X2 += 0.00000005307 * Math.cos(4.06785486332 + 6489.776587288 * t);
-        X2 += 0.00000004333 * Math.cos(0.67828219297 + 4933.2084403326 * t);
-        X2 += 0.00000004470 * Math.cos(4.63122002595 + 2288.3440435114 * t);
-        X2 += 0.00000004148 * Math.cos(2.67721083071 + 3347.7259737006 * t);
-        X2 += 0.00000003987 * Math.cos(5.31786407967 + 23384.2869868986 * t);
-        X2 += 0.00000003806 * Math.cos(0.70901266883 + 5092.1519581158 * t);
-        X2 += 0.00000003796 * Math.cos(4.08302538124 + 3870.3033917944 * t);
-        X2 += 0.00000004621 * Math.cos(3.86854740775 + 7477.522860216 * t);
-        X2 += 0.00000003278 * Math.cos(2.34853927305 + 426.598190876 * t);
-        X2 += 0.00000003200 * Math.cos(3.85010217010 + 6438.4962494256 * t);
-        X2 += 0.00000002521 * Math.cos(5.54898285357 + 5331.3574437408 * t);
-        X2 += 0.00000002884 * Math.cos(2.21782307080 + 382.8965322232 * t);
-        X2 += 0.00000002413 * Math.cos(2.12409000894 + 6836.6452528338 * t);
-        X2 += 0.00000002207 * Math.cos(5.89775318087 + 9492.1463150048 * t);
-        X2 += 0.00000002187 * Math.cos(2.71871082697 + 6127.6554505572 * t);
-        X2 += 0.00000002008 * Math.cos(2.54296252495 + 6682.2051744678 * t);
-        X2 += 0.00000002221 * Math.cos(4.91976640295 + 6677.7017350506 * t);
-        X2 += 0.00000001902 * Math.cos(2.46234315280 + 4929.6853219836 * t);
-        X2 += 0.00000001953 * Math.cos(6.12037277662 + 191.4482661116 * t);
-        X2 += 0.00000002413 * Math.cos(1.00871676783 + 639.897286314 * t);
-        X2 += 0.00000002001 * Math.cos(5.03378923195 + 529.6909650946 * t);
-        X2 += 0.00000001728 * Math.cos(4.75687645108 + 3553.9115221378 * t);
-        X2 += 0.00000001979 * Math.cos(0.95853558190 + 6681.2075997474 * t);
-        X2 += 0.00000001979 * Math.cos(2.98858272913 + 6681.2421070518 * t);
-        X2 += 0.00000002141 * Math.cos(2.54328094713 + 7740.6067835888 * t);
-        X2 += 0.00000001573 * Math.cos(4.50508275022 + 3127.3133312618 * t);
-        X2 += 0.00000001631 * Math.cos(2.45741148102 + 7875.6718636242 * t);
-        X2 += 0.00000001962 * Math.cos(6.17211726959 + 6923.9534573736 * t);
-        X2 += 0.00000001572 * Math.cos(1.33560962556 + 8969.568896911 * t);
-        X2 += 0.00000001543 * Math.cos(2.83169859596 + 2118.7638603784 * t);
-        X2 += 0.00000001559 * Math.cos(5.18172013638 + 8955.3418029094 * t);
-        X2 += 0.00000001881 * Math.cos(4.13165877159 + 5729.506447149 * t);
-        X2 += 0.00000001727 * Math.cos(4.42641584826 + 6674.1113063988 * t);
-        X2 += 0.00000001676 * Math.cos(5.72375329917 + 2810.9214616052 * t);
-        X2 += 0.00000001464 * Math.cos(5.67833036033 + 13365.9728251482 * t);
-        X2 += 0.00000001275 * Math.cos(4.01216375228 + 640.8776073822 * t);
-        X2 += 0.00000001483 * Math.cos(1.65051486293 + 9866.4168806652 * t);
-        X2 += 0.00000001159 * Math.cos(1.60356675965 + 6298.3283211764 * t);
-        X2 += 0.00000001157 * Math.cos(0.66416438123 + 6254.6266625236 * t);
-        X2 += 0.00000001402 * Math.cos(4.97495321039 + 2699.7348193176 * t);
-        X2 += 0.00000001138 * Math.cos(0.03863142059 + 12832.7587417046 * t);
-        X2 += 0.00000001484 * Math.cos(5.76685527102 + 10419.9862835076 * t);
-        X2 += 0.00000001215 * Math.cos(2.93903722849 + 3767.2106175758 * t);
-        X2 += 0.00000001077 * Math.cos(2.14986202491 + 12303.06777661 * t);
-        X2 += 0.00000000882 * Math.cos(2.07935042219 + 1751.539531416 * t);
-        X2 += 0.00000001105 * Math.cos(5.02445488391 + 7210.9158184942 * t);
-        X2 += 0.00000000990 * Math.cos(4.46834463877 + 9830.3890139878 * t);
-        X2 += 0.00000000950 * Math.cos(0.25861778749 + 4562.4609930212 * t);
-        X2 += 0.00000000877 * Math.cos(4.22488301555 + 10818.1352869158 * t);
-        X2 += 0.00000000851 * Math.cos(1.35694652573 + 2281.2304965106 * t);
-        X2 += 0.00000001036 * Math.cos(4.41287380431 + 3981.490034082 * t);
-        X2 += 0.00000000757 * Math.cos(5.33473650413 + 9623.6882766912 * t);
-        X2 += 0.00000000821 * Math.cos(3.38181893763 + 10021.8545337516 * t);
-        X2 += 0.00000000734 * Math.cos(0.75626361104 + 10018.3141617504 * t);
-        X2 += 0.00000000821 * Math.cos(1.35115496598 + 10021.8200264472 * t);
-        X2 += 0.00000000723 * Math.cos(6.19867522224 + 853.196381752 * t);
-        X2 += 0.00000000685 * Math.cos(1.03149651000 + 8273.8208670324 * t);
-        X2 += 0.00000000814 * Math.cos(4.08251134670 + 6151.533888305 * t);
-        X2 += 0.00000000646 * Math.cos(5.31818662100 + 6681.1575430968 * t);
-        X2 += 0.00000000651 * Math.cos(2.20345414604 + 398.1490034082 * t);
-        X2 += 0.00000000633 * Math.cos(5.38632263801 + 6040.3472460174 * t);
-        X2 += 0.00000000842 * Math.cos(3.04071354856 + 6688.3384004004 * t);
-        X2 += 0.00000000812 * Math.cos(1.96701783661 + 6041.3275670856 * t);
-        X2 += 0.00000000641 * Math.cos(4.90029509996 + 6681.2921637024 * t);
-        X2 += 0.00000000570 * Math.cos(2.58703838149 + 15643.6802033098 * t);
-        X2 += 0.00000000717 * Math.cos(3.64604387479 + 3178.1457905676 * t);
-        X2 += 0.00000000662 * Math.cos(5.29879326411 + 6894.5239488376 * t);
-        X2 += 0.00000000545 * Math.cos(4.98617588325 + 2766.267628365 * t);
-        X2 += 0.00000000673 * Math.cos(5.61896089419 + 3503.079062832 * t);
-        X2 += 0.00000000617 * Math.cos(2.56762538604 + 3253.30422216 * t);
-        X2 += 0.00000000596 * Math.cos(0.41458038468 + 3427.9206312396 * t);
-        X2 += 0.00000000487 * Math.cos(4.38031296303 + 3914.9572250346 * t);
-        X2 += 0.00000000477 * Math.cos(4.13956608042 + 7234.794256242 * t);
-        X2 += 0.00000000442 * Math.cos(2.68822569790 + 7632.9432596502 * t);
-        X2 += 0.00000000545 * Math.cos(1.03912974763 + 6680.2445323314 * t);
-        X2 += 0.00000000410 * Math.cos(1.58251527013 + 3980.5097130138 * t);
-        X2 += 0.00000000561 * Math.cos(5.66150369412 + 26724.8994135984 * t);
-        X2 += 0.00000000411 * Math.cos(5.74366010527 + 12964.300703391 * t);
-        X2 += 0.00000000395 * Math.cos(6.12652819236 + 2700.7151403858 * t);
-        X2 += 0.00000000425 * Math.cos(3.27320432841 + 2648.454825473 * t);
-        X2 += 0.00000000495 * Math.cos(6.06448586655 + 2914.0142358238 * t);
-        X2 += 0.00000000493 * Math.cos(2.58878000047 + 1039.0266107904 * t);
-        X2 += 0.00000000367 * Math.cos(0.62535956369 + 8962.4553499102 * t);
-        X2 += 0.00000000369 * Math.cos(2.74592799154 + 8270.2977486834 * t);
-        X2 += 0.00000000380 * Math.cos(2.89275122673 + 11081.2192102886 * t);
-        X2 += 0.00000000372 * Math.cos(5.87272930494 + 4032.7700279266 * t);
-        X2 += 0.00000000338 * Math.cos(5.22015252880 + 8432.7643848156 * t);
-        X2 += 0.00000000371 * Math.cos(5.28554270239 + 7064.1213856228 * t);
-        X2 += 0.00000000305 * Math.cos(4.77209265653 + 574.3447983348 * t);
-        X2 += 0.00000000300 * Math.cos(2.85385783473 + 5459.3762870782 * t);
-        X2 += 0.00000000306 * Math.cos(4.36534167614 + 6872.6731195112 * t);
-        X2 += 0.00000000326 * Math.cos(2.91789777501 + 10022.8176011676 * t);
-        X2 += 0.00000000280 * Math.cos(2.83230906425 + 11216.284290324 * t);
-        X2 += 0.00000000333 * Math.cos(0.28199543333 + 2301.58581590939 * t);
-        X2 += 0.00000000283 * Math.cos(6.13788451705 + 13760.5987102074 * t);
-        X2 += 0.00000000272 * Math.cos(5.85293220428 + 10551.528245194 * t);
-        X2 += 0.00000000358 * Math.cos(5.91039820815 + 8671.9698704406 * t);
-        X2 += 0.00000000278 * Math.cos(3.16173504794 + 5828.0284716476 * t);
-        X2 += 0.00000000268 * Math.cos(5.30012147929 + 10021.9045904022 * t);
-        X2 += 0.00000000263 * Math.cos(3.04875074455 + 9468.267877257 * t);
-        X2 += 0.00000000341 * Math.cos(1.55199717015 + 8031.0922630584 * t);
-        X2 += 0.00000000315 * Math.cos(0.38937613087 + 16173.3711684044 * t);
-        X2 += 0.00000000268 * Math.cos(0.82005853572 + 2487.4160449478 * t);
-        X2 += 0.00000000242 * Math.cos(0.66542784607 + 13358.9265884502 * t);
-        X2 += 0.00000000251 * Math.cos(4.82083845476 + 1066.49547719 * t);
-        X2 += 0.00000000318 * Math.cos(2.39959337988 + 213.299095438 * t);
-        X2 += 0.00000000245 * Math.cos(0.65336059003 + 8429.2412664666 * t);
-        X2 += 0.00000000267 * Math.cos(5.70853737597 + 10021.7699697966 * t);
-        X2 += 0.00000000246 * Math.cos(0.23564126000 + 10264.5658840734 * t);
-        X2 += 0.00000000260 * Math.cos(0.59900554651 + 5642.1982426092 * t);
-        X2 += 0.00000000285 * Math.cos(1.73071428119 + 12310.1813236108 * t);
-        X2 += 0.00000000289 * Math.cos(4.38737249371 + 9779.1086761254 * t);
-        X2 += 0.00000000266 * Math.cos(2.96358399628 + 18984.2926300096 * t);
-        X2 += 0.00000000209 * Math.cos(1.26589578723 + 5614.7293762096 * t);
-        X2 += 0.00000000199 * Math.cos(3.73362043961 + 13362.4669604514 * t);
-        X2 += 0.00000000199 * Math.cos(1.70289925386 + 13362.432453147 * t);
-        X2 += 0.00000000239 * Math.cos(6.00441886993 + 16706.585251848 * t);
-        X2 += 0.00000000252 * Math.cos(3.28817243007 + 6283.0758499914 * t);
-        X2 += 0.00000000212 * Math.cos(3.41540373108 + 7107.8230442756 * t);
-        X2 += 0.00000000193 * Math.cos(4.43872802342 + 9070.1188738488 * t);
-        X2 += 0.00000000175 * Math.cos(2.59247166948 + 9381.9399937854 * t);
-        X2 += 0.00000000172 * Math.cos(4.84769425281 + 13171.0014406876 * t);
-        X2 += 0.00000000196 * Math.cos(1.99723494678 + 13207.029307365 * t);
-        X2 += 0.00000000167 * Math.cos(1.99111732387 + 1052.2683831884 * t);
-        X2 += 0.00000000177 * Math.cos(1.94927710769 + 9638.9407478762 * t);
-        X2 += 0.00000000170 * Math.cos(2.99514353373 + 4379.6390374902 * t);
-        X2 += 0.00000000157 * Math.cos(0.16247582139 + 8827.3902698748 * t);
-        X2 += 0.00000000155 * Math.cos(5.48638933162 + 12295.9542296092 * t);
-        X2 += 0.00000000205 * Math.cos(2.22623702131 + 1221.8485663214 * t);
-        X2 += 0.00000000148 * Math.cos(5.75360559500 + 10235.1363755374 * t);
-        X2 += 0.00000000141 * Math.cos(3.42339195893 + 10028.9508271002 * t);
-        X2 += 0.00000000139 * Math.cos(1.20065333201 + 1437.1756141986 * t);
-        X2 += 0.00000000131 * Math.cos(1.82249875902 + 3029.7716278314 * t);
-        X2 += 0.00000000134 * Math.cos(1.93761929722 + 1903.4368125012 * t);
-        X2 += 0.00000000140 * Math.cos(3.87848331743 + 10575.4066829418 * t);
-        X2 += 0.00000000118 * Math.cos(5.24296149967 + 149.5631971346 * t);
-        X2 += 0.00000000116 * Math.cos(1.15955870554 + 3651.4532255682 * t);
-        X2 += 0.00000000121 * Math.cos(2.84740298536 + 10973.55568635 * t);
-        X2 += 0.00000000129 * Math.cos(3.90779149886 + 6696.4773245846 * t);
-        X2 += 0.00000000117 * Math.cos(5.84379077675 + 6701.5801727984 * t);
-        X2 += 0.00000000119 * Math.cos(3.78788917836 + 9168.6408983474 * t);
-        X2 += 0.00000000107 * Math.cos(5.14404131798 + 4407.1079038898 * t);
-        X2 += 0.00000000114 * Math.cos(4.75737830221 + 7322.1024607818 * t);
-        X2 += 0.00000000104 * Math.cos(3.13487730948 + 6665.9723822146 * t);
-        X2 += 0.00000000105 * Math.cos(1.90361221217 + 11371.7046897582 * t);
-        X2 += 0.00000000101 * Math.cos(4.46463007865 + 14158.7477136156 * t);
-        X2 += 0.00000000131 * Math.cos(1.19699573376 + 6660.8695340008 * t);
-        X2 += 0.00000000114 * Math.cos(3.72019854011 + 6518.7582172674 * t);
-        X2 += 0.00000000108 * Math.cos(2.10333523773 + 5244.049239201 * t);
-        X2 += 0.00000000095 * Math.cos(0.30620246397 + 6816.289933435 * t);
-        X2 += 0.00000000101 * Math.cos(6.03126082039 + 11769.8536931664 * t);
-        X2 += 0.00000000101 * Math.cos(2.84466352346 + 11773.3768115154 * t);
-        X2 += 0.00000000088 * Math.cos(6.06292314661 + 1835.3246176068 * t);
-        X2 += 0.00000000090 * Math.cos(5.51420018615 + 17256.6315363414 * t);
-        X2 += 0.00000000092 * Math.cos(4.73502476982 + 10014.7237330986 * t);
-        X2 += 0.00000000083 * Math.cos(3.76185545661 + 1505.28780909299 * t);
-        X2 += 0.00000000082 * Math.cos(3.24275708402 + 6467.9257579616 * t);
-        X2 += 0.00000000078 * Math.cos(5.60819903790 + 10404.7338123226 * t);
-        X2 += 0.00000000096 * Math.cos(6.09589552170 + 16304.9131300908 * t);
-        X2 += 0.00000000094 * Math.cos(5.30244568575 + 9808.5381846614 * t);
-        X2 += 0.00000000085 * Math.cos(0.45449951855 + 4193.8088084518 * t);
-        X2 += 0.00000000073 * Math.cos(0.88325190137 + 6660.4494579072 * t);
-        X2 += 0.00000000091 * Math.cos(1.87876020582 + 25287.7237993998 * t);
-        X2 += 0.00000000093 * Math.cos(6.03033210386 + 20752.6643624754 * t);
-        X2 += 0.00000000071 * Math.cos(2.10260204323 + 15113.9892382152 * t);
-        X2 += 0.00000000066 * Math.cos(2.12551225679 + 30376.3526391666 * t);
-        X2 += 0.00000000067 * Math.cos(2.69564372543 + 692.1576012268 * t);
-        X2 += 0.00000000069 * Math.cos(6.00365908535 + 30065.5118402982 * t);
-        X2 += 0.00000000065 * Math.cos(5.49865044582 + 17412.0519357756 * t);
-        X2 += 0.00000000076 * Math.cos(0.17812622824 + 9380.9596727172 * t);
-        X2 += 0.00000000072 * Math.cos(1.80564509293 + 27035.7402124668 * t);
-        X2 += 0.00000000063 * Math.cos(4.77495740709 + 13517.8701062334 * t);
-        X2 += 0.00000000065 * Math.cos(3.24454700037 + 2631.6226244232 * t);
-        X2 += 0.00000000065 * Math.cos(1.04135638320 + 20199.094959633 * t);
-        X2 += 0.00000000061 * Math.cos(1.62141559661 + 12935.8515159232 * t);
-        X2 += 0.00000000063 * Math.cos(5.65699508407 + 13362.517017102 * t);
-        X2 += 0.00000000080 * Math.cos(2.35381700251 + 21795.21409161479 * t);
-        X2 += 0.00000000064 * Math.cos(0.76110443806 + 6768.5330579394 * t);
-        X2 += 0.00000000073 * Math.cos(1.22356246246 + 14712.317116458 * t);
-        X2 += 0.00000000062 * Math.cos(3.23287490977 + 5989.0672521728 * t);
-        X2 += 0.00000000057 * Math.cos(0.75475068767 + 16699.53901514999 * t);
-        X2 += 0.00000000071 * Math.cos(5.54884103647 + 14128.2427712456 * t);
-        X2 += 0.00000000056 * Math.cos(3.23324962674 + 11128.9760857842 * t);
-        X2 += 0.00000000052 * Math.cos(4.10828089558 + 11243.6858464208 * t);
-        X2 += 0.00000000068 * Math.cos(3.30032043676 + 3340.629680352 * t);
-        X2 += 0.00000000067 * Math.cos(4.65098163449 + 2233.473621015 * t);
-        X2 += 0.00000000064 * Math.cos(5.71360304099 + 13119.72110282519 * t);
-        X2 += 0.00000000068 * Math.cos(1.26993098899 + 3340.5951730476 * t);
-        X2 += 0.00000000049 * Math.cos(3.23999076412 + 14421.8316369884 * t);
-        X2 += 0.00000000050 * Math.cos(2.88028372970 + 6593.9166488598 * t);
-        X2 += 0.00000000065 * Math.cos(5.34149579962 + 6106.8800550648 * t);
-        X2 += 0.00000000048 * Math.cos(3.22386624541 + 10177.2576795336 * t);
-        X2 += 0.00000000050 * Math.cos(6.02031448574 + 4049.6022289764 * t);
-        X2 += 0.00000000063 * Math.cos(4.41039120987 + 22743.4093795164 * t);
-        X2 += 0.00000000051 * Math.cos(1.08977299741 + 12721.572099417 * t);
-        X2 += 0.00000000056 * Math.cos(5.66089176987 + 9499.2598620056 * t);
-        X2 += 0.00000000049 * Math.cos(1.47188446727 + 14584.2982731206 * t);
-        X2 += 0.00000000056 * Math.cos(6.06513078770 + 13362.3823964964 * t);
-        X2 += 0.00000000046 * Math.cos(5.89343604493 + 13149.1506113612 * t);
-        X2 += 0.00000000051 * Math.cos(0.76284557905 + 19513.9835951042 * t);
-        X2 += 0.00000000047 * Math.cos(2.03226039424 + 7321.1221397136 * t);
-        X2 += 0.00000000047 * Math.cos(1.30702855110 + 21265.5231265202 * t);
-        X2 += 0.00000000047 * Math.cos(2.87487572007 + 23141.5583829246 * t);
-        X2 += 0.00000000043 * Math.cos(3.08890328263 + 8799.988713778 * t);
-        X2 += 0.00000000043 * Math.cos(2.18897814596 + 6684.8152820514 * t);
-        X2 += 0.00000000042 * Math.cos(6.24718113814 + 9485.032768004 * t);
-        X2 += 0.00000000043 * Math.cos(2.56622033374 + 6705.1032911474 * t);
-        X2 += 0.00000000045 * Math.cos(5.21894773261 + 6843.6914895318 * t);
-        X2 += 0.00000000053 * Math.cos(0.96281646589 + 8425.6508378148 * t);
-        X2 += 0.00000000049 * Math.cos(2.87124368812 + 4845.9002357928 * t);
-        X2 += 0.00000000053 * Math.cos(5.33119034498 + 7903.073419721 * t);
-        X2 += 0.00000000041 * Math.cos(0.09690752852 + 16460.33352952499 * t);
-        X2 += 0.00000000056 * Math.cos(3.04529553480 + 6702.000248892 * t);
-        X2 += 0.00000000040 * Math.cos(0.61605943900 + 14054.607308026 * t);
-        X2 += 0.00000000043 * Math.cos(1.52605536241 + 6709.6740408674 * t);
-        X2 += 0.00000000043 * Math.cos(1.75785472218 + 6677.6344247478 * t);
-        X2 += 0.00000000050 * Math.cos(0.16634326697 + 13892.1406718938 * t);
-        X2 += 0.00000000039 * Math.cos(3.68543277913 + 13553.8979729108 * t);
-        X2 += 0.00000000045 * Math.cos(3.41167094956 + 28230.18722269139 * t);
-        X2 += 0.00000000052 * Math.cos(1.41393169635 + 16062.1845261168 * t);
-        X2 += 0.00000000049 * Math.cos(4.48594234475 + 6657.3464156518 * t);
-        X2 += 0.00000000038 * Math.cos(4.01715778747 + 6531.661656265 * t);
-        X2 += 0.00000000049 * Math.cos(3.05979125217 + 11610.9101753832 * t);
-        X2 += 0.00000000036 * Math.cos(2.52534740273 + 12323.4230960088 * t);
-        X2 += 0.00000000036 * Math.cos(4.69220073966 + 6158.6474353058 * t);
-        X2 += 0.00000000038 * Math.cos(1.09153073828 + 11614.4332937322 * t);
-        X2 += 0.00000000038 * Math.cos(3.33065203106 + 22324.9050567094 * t);
-        X2 += 0.00000000046 * Math.cos(0.03302786718 + 3333.5661900018 * t);
-        X2 += 0.00000000046 * Math.cos(6.09073905146 + 3347.6586633978 * t);
-        X2 += 0.00000000040 * Math.cos(2.10576578753 + 8982.810669309 * t);
-        X2 += 0.00000000043 * Math.cos(0.78042917903 + 7255.5696517344 * t);
-        X2 += 0.00000000034 * Math.cos(4.19221759757 + 13916.0191096416 * t);
-        X2 += 0.00000000037 * Math.cos(3.11625027243 + 27433.88921587499 * t);
-        X2 += 0.00000000043 * Math.cos(2.33975731781 + 18454.601664915 * t);
-        X2 += 0.00000000042 * Math.cos(3.27968491376 + 13363.4300278674 * t);
-        X2 += 0.00000000046 * Math.cos(6.20852644411 + 25685.872802808 * t);
-        X2 += 0.00000000042 * Math.cos(4.41766590611 + 4447.7512323846 * t);
-        X2 += 0.00000000033 * Math.cos(1.58447809959 + 4777.7880408984 * t);
-        X2 += 0.00000000034 * Math.cos(4.72972168190 + 26084.0218062162 * t);
-        X2 += 0.00000000032 * Math.cos(0.47359068270 + 30774.5016425748 * t);
-        X2 += 0.00000000033 * Math.cos(4.58693776960 + 18606.4989460002 * t);
-        X2 += 0.00000000035 * Math.cos(3.48982518412 + 17654.7805397496 * t);
-        X2 += 0.00000000036 * Math.cos(1.40291642973 + 24606.13555322 * t);
-        X2 += 0.00000000032 * Math.cos(2.13345131081 + 5099.2655051166 * t);
-        X2 += 0.00000000035 * Math.cos(1.28107458867 + 23695.127785767 * t);
-        X2 += 0.00000000041 * Math.cos(3.50737470856 + 31570.7996493912 * t);
-        X2 += 0.00000000033 * Math.cos(5.09020911058 + 31172.650645983 * t);
-        X2 += 0.00000000031 * Math.cos(0.01163916655 + 8186.5126624926 * t);
-        X2 += 0.00000000032 * Math.cos(2.87432086256 + 15664.03552270859 * t);
-        X2 += 0.00000000031 * Math.cos(0.53878733876 + 4106.4054911462 * t);
-        X2 += 0.00000000031 * Math.cos(2.44338692629 + 2574.8193622534 * t);
-        X2 += 0.00000000029 * Math.cos(6.21158248008 + 2803.8079146044 * t);
-        X2 += 0.00000000028 * Math.cos(1.67663019512 + 12509.2533250472 * t);
-        X2 += 0.00000000031 * Math.cos(5.50562593007 + 9225.539273283 * t);
-        X2 += 0.00000000030 * Math.cos(2.07590180724 + 16276.463942623 * t);
-        X2 += 0.00000000030 * Math.cos(0.66979072957 + 24076.4445881254 * t);
-        X2 += 0.00000000030 * Math.cos(3.99443582500 + 1744.4259844152 * t);
-        X2 += 0.00000000028 * Math.cos(2.16725568934 + 15650.7937503106 * t);
-        X2 += 0.00000000027 * Math.cos(4.40428978967 + 15265.8865193004 * t);
-        X2 += 0.00000000029 * Math.cos(0.28036663014 + 29026.48522950779 * t);
-        X2 += 0.00000000029 * Math.cos(3.70344382503 + 33318.8160624582 * t);
-        X2 += 0.00000000027 * Math.cos(0.10774552280 + 17101.2111369072 * t);
-        X2 += 0.00000000027 * Math.cos(0.45485812543 + 17810.2009391838 * t);
-        X2 += 0.00000000029 * Math.cos(4.03990214859 + 1758.6530784168 * t);
-        X2 += 0.00000000026 * Math.cos(0.25887939770 + 20735.83216142559 * t);
-        X2 += 0.00000000025 * Math.cos(0.89364920475 + 20354.5153590672 * t);
-        X2 += 0.00000000026 * Math.cos(0.94849562976 + 16066.0658614748 * t);
-        X2 += 0.00000000033 * Math.cos(1.67236797949 + 28628.3362260996 * t);
-        X2 += 0.00000000027 * Math.cos(3.09588567120 + 26637.59120905859 * t);
-        X2 += 0.00000000027 * Math.cos(4.83042372893 + 22747.2907148744 * t);
-        X2 += 0.00000000026 * Math.cos(2.23319975287 + 5628.9564702112 * t);
-        X2 += 0.00000000024 * Math.cos(3.95136673509 + 36659.428489158 * t);
-        X2 += 0.00000000025 * Math.cos(0.20244605774 + 21548.9623692918 * t);
-        X2 += 0.00000000024 * Math.cos(2.00009707302 + 19402.7969528166 * t);
-        X2 += 0.00000000034 * Math.cos(3.20409325901 + 19004.6479494084 * t);
-        X2 += 0.00000000026 * Math.cos(3.99199460654 + 11925.2740926006 * t);
-        X2 += 0.00000000031 * Math.cos(5.64870400603 + 2818.035008606 * t);
-        X2 += 0.00000000025 * Math.cos(4.93162407170 + 14071.43950907579 * t);
-        X2 += 0.00000000030 * Math.cos(3.41289002407 + 29978.2036357584 * t);
-        X2 += 0.00000000029 * Math.cos(2.76627287372 + 24093.2767891752 * t);
-        X2 += 0.00000000028 * Math.cos(5.02089948874 + 13745.3462390224 * t);
-        X2 += 0.00000000024 * Math.cos(0.83608961696 + 3877.4169387952 * t);
-        X2 += 0.00000000022 * Math.cos(0.07496012955 + 8439.8779318164 * t);
-        X2 += 0.00000000021 * Math.cos(2.03101495598 + 5085.038411115 * t);
-        X2 += 0.00000000021 * Math.cos(2.71551636844 + 23296.97878235879 * t);
-        X2 += 0.00000000024 * Math.cos(0.33554415228 + 10596.1820784342 * t);
-        X2 += 0.00000000022 * Math.cos(1.41039428822 + 12722.5524204852 * t);
-        X2 += 0.00000000021 * Math.cos(5.62805203791 + 3340.545116397 * t);
-        X2 += 0.00000000027 * Math.cos(3.83951649814 + 8584.6616659008 * t);
-        X2 += 0.00000000022 * Math.cos(5.50509868914 + 36261.2794857498 * t);
-        X2 += 0.00000000022 * Math.cos(5.32605738110 + 20597.2439630412 * t);
-        X2 += 0.00000000020 * Math.cos(5.20493781467 + 3340.6797370026 * t);
-        X2 += 0.00000000020 * Math.cos(5.68477147752 + 3.523118349 * t);
-        X2 += 0.00000000021 * Math.cos(4.89299498591 + 29580.05463235019 * t);
-        X2 += 0.00000000020 * Math.cos(3.28509846447 + 1062.9050485382 * t);
-        X2 += 0.00000000020 * Math.cos(3.94333468581 + 34911.412076091 * t);
-        X2 += 0.00000000019 * Math.cos(4.12121274193 + 40000.04091585779 * t);
-        X2 += 0.00000000021 * Math.cos(0.48221374471 + 17013.9029323674 * t);
-        X2 += 0.00000000018 * Math.cos(6.19988275445 + 18208.349942592 * t);
-        X2 += 0.00000000021 * Math.cos(2.62497335635 + 24341.5283174566 * t);
-        X2 += 0.00000000018 * Math.cos(1.39329207850 + 3863.1898447936 * t);
-        X2 += 0.00000000020 * Math.cos(5.27137395105 + 10787.6303445458 * t);
-        X2 += 0.00000000020 * Math.cos(2.63246111294 + 7788.3636590844 * t);
-        X2 += 0.00000000023 * Math.cos(5.70498713267 + 4392.8808098882 * t);
-        X2 += 0.00000000018 * Math.cos(2.03105441179 + 24491.4257925834 * t);
-        X2 += 0.00000000023 * Math.cos(0.89003486538 + 37455.7264959744 * t);
-        X2 += 0.00000000017 * Math.cos(2.31724671612 + 23937.856389741 * t);
-        X2 += 0.00000000022 * Math.cos(5.13679401812 + 21947.11137270 * t);
-        X2 += 0.00000000020 * Math.cos(4.93672081814 + 10213.285546211 * t);
-        X2 += 0.00000000018 * Math.cos(3.83484681339 + 3492.509707785 * t);
-        X2 += 0.00000000018 * Math.cos(2.28892010525 + 3188.7151456146 * t);
-        X2 += 0.00000000023 * Math.cos(5.21964251169 + 32920.66705904999 * t);
-        X2 += 0.00000000021 * Math.cos(2.37477641594 + 21000.9158907568 * t);
-        X2 += 0.00000000017 * Math.cos(2.84721386608 + 5618.3198048614 * t);
-        X2 += 0.00000000016 * Math.cos(2.80865119459 + 31022.7531708562 * t);
-        X2 += 0.00000000017 * Math.cos(0.94803978582 + 23539.7073863328 * t);
-        X2 += 0.00000000017 * Math.cos(2.64977779529 + 27682.1407441564 * t);
-        X2 += 0.00000000016 * Math.cos(3.84383924684 + 22345.2603761082 * t);
-        X2 += 0.00000000016 * Math.cos(3.77900213334 + 10448.4354709754 * t);
-        X2 += 0.00000000018 * Math.cos(2.23058952100 + 18451.07854656599 * t);
-        X2 += 0.00000000015 * Math.cos(5.97152986197 + 23546.7536230308 * t);
-        X2 += 0.00000000016 * Math.cos(0.42132719394 + 32522.5180556418 * t);
-        X2 += 0.00000000017 * Math.cos(5.85701735803 + 7373.3824546264 * t);
-        X2 += 0.00000000021 * Math.cos(0.73975045388 + 35863.1304823416 * t);
-        X2 += 0.00000000015 * Math.cos(2.56824204430 + 17277.4069318338 * t);
-        X2 += 0.00000000015 * Math.cos(5.89343669938 + 2938.9403049426 * t);
-        X2 += 0.00000000015 * Math.cos(0.23033021926 + 3742.284548457 * t);
-        X2 += 0.00000000018 * Math.cos(0.72384948957 + 24889.5747959916 * t);
-        X2 += 0.00000000015 * Math.cos(1.37917033437 + 20809.4676246452 * t);
-        X2 += 0.00000000016 * Math.cos(1.02347429666 + 39203.74290904139 * t);
-        X2 += 0.00000000015 * Math.cos(2.21611077272 + 35464.9814789334 * t);
-        X2 += 0.00000000016 * Math.cos(3.41121610919 + 12808.8803039568 * t);
-        X2 += 0.00000000018 * Math.cos(5.62217102143 + 14867.73751589219 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 135 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00000849999;
-        X3 += 0.00000560133 * Math.cos(1.94007552058 + 6681.2248533996 * t);
-        X3 += 0.00000318062 * Math.cos(2.39391695789 + 10021.8372800994 * t);
-        X3 += 0.00000113458 * Math.cos(2.75680104109 + 3340.6124266998 * t);
-        X3 += 0.00000088769 * Math.cos(2.77668742127 + 13362.4497067992 * t);
-        X3 += 0.00000019119 * Math.cos(3.13835323002 + 16703.062133499 * t);
-        X3 += 0.00000017277 * Math.cos(3.54319327296 + 3496.032826134 * t);
-        X3 += 0.00000017102 * Math.cos(5.72328990016 + 3185.1920272656 * t);
-        X3 += 0.00000007980 * Math.cos(3.07682330325 + 3344.1355450488 * t);
-        X3 += 0.00000007938 * Math.cos(6.19210789752 + 3337.0893083508 * t);
-        X3 += 0.00000003600 * Math.cos(3.49057256397 + 20043.6745601988 * t);
-        X3 += 0.00000003738 * Math.cos(4.31798545325 + 3583.3410306738 * t);
-        X3 += 0.00000003701 * Math.cos(4.94786426602 + 3097.88382272579 * t);
-        X3 += 0.00000002871 * Math.cos(3.51063041661 + 6684.7479717486 * t);
-        X3 += 0.00000002396 * Math.cos(6.08123425918 + 6525.8044539654 * t);
-        X3 += 0.00000002381 * Math.cos(2.14011753266 + 3894.1818295422 * t);
-        X3 += 0.00000002366 * Math.cos(0.84278889817 + 2787.0430238574 * t);
-        X3 += 0.00000002217 * Math.cos(4.10105217005 + 155.4203994342 * t);
-        X3 += 0.00000001294 * Math.cos(0.74157779671 + 4292.3308329504 * t);
-        X3 += 0.00000001278 * Math.cos(2.24302936863 + 2388.8940204492 * t);
-        X3 += 0.00000001161 * Math.cos(0.92511464092 + 3532.0606928114 * t);
-        X3 += 0.00000001156 * Math.cos(2.06329715393 + 3149.1641605882 * t);
-        X3 += 0.00000001158 * Math.cos(1.96104793934 + 4136.9104335162 * t);
-        X3 += 0.00000001026 * Math.cos(1.02332579752 + 2544.3144198834 * t);
-        X3 += 0.00000000999 * Math.cos(2.40817781393 + 3339.6321056316 * t);
-        X3 += 0.00000000908 * Math.cos(5.64113657397 + 4690.4798363586 * t);
-        X3 += 0.00000000996 * Math.cos(0.57020320129 + 3341.592747768 * t);
-        X3 += 0.00000000887 * Math.cos(3.64548622051 + 1990.745017041 * t);
-        X3 += 0.00000000778 * Math.cos(3.86898632712 + 10025.3603984484 * t);
-        X3 += 0.00000000798 * Math.cos(3.26335116909 + 3723.508958923 * t);
-        X3 += 0.00000000794 * Math.cos(6.01017762336 + 2957.7158944766 * t);
-        X3 += 0.00000000730 * Math.cos(0.57139245110 + 4535.0594369244 * t);
-        X3 += 0.00000000625 * Math.cos(3.83967243505 + 23384.2869868986 * t);
-        X3 += 0.00000000621 * Math.cos(5.05943953438 + 1592.5960136328 * t);
-        X3 += 0.00000000632 * Math.cos(4.24328042236 + 5088.6288397668 * t);
-        X3 += 0.00000000600 * Math.cos(2.38992409628 + 2146.1654164752 * t);
-        X3 += 0.00000000450 * Math.cos(3.39897011554 + 3738.761430108 * t);
-        X3 += 0.00000000449 * Math.cos(1.93928115298 + 3333.498879699 * t);
-        X3 += 0.00000000411 * Math.cos(5.89788210301 + 2942.4634232916 * t);
-        X3 += 0.00000000419 * Math.cos(1.08676442942 + 3347.7259737006 * t);
-        X3 += 0.00000000399 * Math.cos(0.63956537359 + 4399.994356889 * t);
-        X3 += 0.00000000373 * Math.cos(3.38557300464 + 6836.6452528338 * t);
-        X3 += 0.00000000488 * Math.cos(4.67092863003 + 6923.9534573736 * t);
-        X3 += 0.00000000356 * Math.cos(0.24201359347 + 1059.3819301892 * t);
-        X3 += 0.00000000356 * Math.cos(1.20127683127 + 6127.6554505572 * t);
-        X3 += 0.00000000397 * Math.cos(2.50087314910 + 6489.776587288 * t);
-        X3 += 0.00000000295 * Math.cos(2.81028621304 + 5621.8429232104 * t);
-        X3 += 0.00000000357 * Math.cos(0.15120327086 + 9866.4168806652 * t);
-        X3 += 0.00000000295 * Math.cos(3.82251899304 + 7079.3738568078 * t);
-        X3 += 0.00000000346 * Math.cos(2.35310156551 + 7477.522860216 * t);
-        X3 += 0.00000000237 * Math.cos(5.19318533864 + 6438.4962494256 * t);
-        X3 += 0.00000000214 * Math.cos(0.98789182009 + 6682.2051744678 * t);
-        X3 += 0.00000000178 * Math.cos(4.00441831249 + 5331.3574437408 * t);
-        X3 += 0.00000000163 * Math.cos(5.43763088786 + 4933.2084403326 * t);
-        X3 += 0.00000000215 * Math.cos(2.60375409797 + 5729.506447149 * t);
-        X3 += 0.00000000154 * Math.cos(0.93377729776 + 7875.6718636242 * t);
-        X3 += 0.00000000149 * Math.cos(0.09387386327 + 6298.3283211764 * t);
-        X3 += 0.00000000173 * Math.cos(4.21364045474 + 13365.9728251482 * t);
-        X3 += 0.00000000143 * Math.cos(2.35553703991 + 7234.794256242 * t);
-        X3 += 0.00000000154 * Math.cos(6.09739962901 + 6677.7017350506 * t);
-        X3 += 0.00000000156 * Math.cos(1.03056149319 + 7740.6067835888 * t);
-        X3 += 0.00000000100 * Math.cos(2.91327592181 + 9830.3890139878 * t);
-        X3 += 0.00000000108 * Math.cos(4.23921245691 + 10419.9862835076 * t);
-        X3 += 0.00000000084 * Math.cos(2.71984208341 + 10818.1352869158 * t);
-        X3 += 0.00000000099 * Math.cos(4.18630770421 + 26724.8994135984 * t);
-        X3 += 0.00000000074 * Math.cos(1.02672478927 + 4929.6853219836 * t);
-        X3 += 0.00000000074 * Math.cos(0.93262918684 + 7632.9432596502 * t);
-        X3 += 0.00000000065 * Math.cos(5.02060335506 + 10264.5658840734 * t);
-        X3 += 0.00000000082 * Math.cos(1.47502451340 + 6688.3384004004 * t);
-        X3 += 0.00000000061 * Math.cos(2.88294088094 + 796.2980068164 * t);
-        X3 += 0.00000000057 * Math.cos(1.55246581721 + 9468.267877257 * t);
-        X3 += 0.00000000057 * Math.cos(4.79655567701 + 12832.7587417046 * t);
-        X3 += 0.00000000057 * Math.cos(3.21328791407 + 7210.9158184942 * t);
-        X3 += 0.00000000051 * Math.cos(5.82726745850 + 8273.8208670324 * t);
-        X3 += 0.00000000054 * Math.cos(4.16556830133 + 9492.1463150048 * t);
-        X3 += 0.00000000050 * Math.cos(0.50123821286 + 13207.029307365 * t);
-        X3 += 0.00000000044 * Math.cos(2.82124972690 + 3870.3033917944 * t);
-        X3 += 0.00000000049 * Math.cos(5.67213966976 + 6681.2075997474 * t);
-        X3 += 0.00000000045 * Math.cos(5.78754564915 + 8031.0922630584 * t);
-        X3 += 0.00000000049 * Math.cos(1.41972425612 + 6681.2421070518 * t);
-        X3 += 0.00000000046 * Math.cos(4.10060372779 + 398.1490034082 * t);
-        X3 += 0.00000000042 * Math.cos(1.83928464694 + 10021.8545337516 * t);
-        X3 += 0.00000000043 * Math.cos(1.37745223660 + 10022.8176011676 * t);
-        X3 += 0.00000000037 * Math.cos(0.19254777844 + 8827.3902698748 * t);
-        X3 += 0.00000000042 * Math.cos(6.09184233156 + 10021.8200264472 * t);
-        X3 += 0.00000000036 * Math.cos(1.39675249646 + 11081.2192102886 * t);
-        X3 += 0.00000000035 * Math.cos(2.96862453735 + 9070.1188738488 * t);
-        X3 += 0.00000000033 * Math.cos(1.01120243621 + 15643.6802033098 * t);
-        X3 += 0.00000000032 * Math.cos(6.00543460913 + 2281.2304965106 * t);
-        X3 += 0.00000000037 * Math.cos(5.84186470726 + 10018.3141617504 * t);
-        X3 += 0.00000000031 * Math.cos(1.56543336145 + 1194.4470102246 * t);
-        X3 += 0.00000000036 * Math.cos(3.37855270463 + 7064.1213856228 * t);
-        X3 += 0.00000000034 * Math.cos(3.80029922412 + 2810.9214616052 * t);
-        X3 += 0.00000000036 * Math.cos(0.21597015085 + 12303.06777661 * t);
-        X3 += 0.00000000026 * Math.cos(1.29835056088 + 11216.284290324 * t);
-        X3 += 0.00000000026 * Math.cos(3.71876071236 + 9623.6882766912 * t);
-        X3 += 0.00000000031 * Math.cos(2.51169108456 + 6680.2445323314 * t);
-        X3 += 0.00000000025 * Math.cos(2.90245233493 + 10575.4066829418 * t);
-        X3 += 0.00000000025 * Math.cos(4.61989520769 + 13760.5987102074 * t);
-        X3 += 0.00000000033 * Math.cos(4.38991518046 + 8671.9698704406 * t);
-        X3 += 0.00000000023 * Math.cos(3.82777479464 + 1349.8674096588 * t);
-        X3 += 0.00000000027 * Math.cos(4.53977736871 + 16706.585251848 * t);
-        X3 += 0.00000000024 * Math.cos(5.30269642578 + 8432.7643848156 * t);
-        X3 += 0.00000000024 * Math.cos(1.32036606678 + 8270.2977486834 * t);
-        X3 += 0.00000000023 * Math.cos(2.78297162236 + 5486.777843175 * t);
-        X3 += 0.00000000021 * Math.cos(5.90538406185 + 8962.4553499102 * t);
-        X3 += 0.00000000025 * Math.cos(3.69837020561 + 6894.5239488376 * t);
-        X3 += 0.00000000019 * Math.cos(5.82090139161 + 951.7184062506 * t);
-        X3 += 0.00000000021 * Math.cos(2.58836852861 + 1748.016413067 * t);
-        X3 += 0.00000000020 * Math.cos(0.45032113933 + 9638.9407478762 * t);
-        X3 += 0.00000000020 * Math.cos(1.23809651087 + 3767.2106175758 * t);
-        X3 += 0.00000000018 * Math.cos(2.11942127084 + 6674.1113063988 * t);
-        X3 += 0.00000000018 * Math.cos(2.98453883646 + 10177.2576795336 * t);
-        X3 += 0.00000000021 * Math.cos(1.55166742516 + 10973.55568635 * t);
-        X3 += 0.00000000017 * Math.cos(3.28202056136 + 13171.0014406876 * t);
-        X3 += 0.00000000018 * Math.cos(3.69940774861 + 5614.7293762096 * t);
-        X3 += 0.00000000016 * Math.cos(3.70893898662 + 6681.1575430968 * t);
-        X3 += 0.00000000016 * Math.cos(4.99486486759 + 2914.0142358238 * t);
-        X3 += 0.00000000016 * Math.cos(4.02902153406 + 10551.528245194 * t);
-        X3 += 0.00000000015 * Math.cos(1.47023666677 + 5459.3762870782 * t);
-        X3 += 0.00000000018 * Math.cos(0.90284270729 + 553.5694028424 * t);
-        X3 += 0.00000000016 * Math.cos(3.30044259977 + 6681.2921637024 * t);
-        X3 += 0.00000000014 * Math.cos(1.85591826294 + 10028.9508271002 * t);
-        X3 += 0.00000000014 * Math.cos(0.24763128548 + 12310.1813236108 * t);
-        X3 += 0.00000000010 * Math.cos(5.93147033577 + 5628.9564702112 * t);
-        X3 += 0.00000000010 * Math.cos(5.70249322961 + 242.728603974 * t);
-        X3 += 0.00000000013 * Math.cos(0.37523695539 + 191.4482661116 * t);
-        X3 += 0.00000000009 * Math.cos(4.72832434298 + 8429.2412664666 * t);
-        X3 += 0.00000000009 * Math.cos(4.10495051503 + 12295.9542296092 * t);
-        X3 += 0.00000000010 * Math.cos(3.23426688850 + 10014.7237330986 * t);
-        X3 += 0.00000000010 * Math.cos(5.19144085400 + 16173.3711684044 * t);
-        X3 += 0.00000000009 * Math.cos(1.56489034516 + 1751.539531416 * t);
-        X3 += 0.00000000009 * Math.cos(1.90233913976 + 3340.629680352 * t);
-        X3 += 0.00000000007 * Math.cos(3.08364199209 + 14158.7477136156 * t);
-        X3 += 0.00000000009 * Math.cos(6.15595082739 + 3340.5951730476 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 41 terms of order 4
-    {
-        double X4 = 0;
-        X4 -= 0.00000025349;
-        X4 += 0.00000012260 * Math.cos(0.83414775886 + 10021.8372800994 * t);
-        X4 += 0.00000010035 * Math.cos(0.40425836057 + 6681.2248533996 * t);
-        X4 += 0.00000005198 * Math.cos(1.24299509979 + 13362.4497067992 * t);
-        X4 += 0.00000003431 * Math.cos(0.85852911695 + 3340.6124266998 * t);
-        X4 += 0.00000002427 * Math.cos(5.05444549984 + 3496.032826134 * t);
-        X4 += 0.00000002418 * Math.cos(4.21420537167 + 3185.1920272656 * t);
-        X4 += 0.00000001497 * Math.cos(1.62269036988 + 16703.062133499 * t);
-        X4 += 0.00000000595 * Math.cos(2.81076120796 + 3583.3410306738 * t);
-        X4 += 0.00000000592 * Math.cos(0.17219890479 + 3097.88382272579 * t);
-        X4 += 0.00000000382 * Math.cos(4.57534940813 + 6525.8044539654 * t);
-        X4 += 0.00000000352 * Math.cos(1.98630568244 + 20043.6745601988 * t);
-        X4 += 0.00000000286 * Math.cos(5.62185554893 + 2787.0430238574 * t);
-        X4 += 0.00000000286 * Math.cos(3.64530816060 + 3894.1818295422 * t);
-        X4 += 0.00000000256 * Math.cos(1.53997671854 + 3337.0893083508 * t);
-        X4 += 0.00000000259 * Math.cos(1.46295781638 + 3344.1355450488 * t);
-        X4 += 0.00000000151 * Math.cos(1.94542778624 + 6684.7479717486 * t);
-        X4 += 0.00000000128 * Math.cos(5.25790457100 + 6836.6452528338 * t);
-        X4 += 0.00000000088 * Math.cos(3.16739635428 + 6923.9534573736 * t);
-        X4 += 0.00000000071 * Math.cos(2.34364246842 + 23384.2869868986 * t);
-        X4 += 0.00000000056 * Math.cos(2.35055343144 + 10025.3603984484 * t);
-        X4 += 0.00000000049 * Math.cos(5.98001416469 + 6127.6554505572 * t);
-        X4 += 0.00000000063 * Math.cos(4.93024120102 + 9866.4168806652 * t);
-        X4 += 0.00000000034 * Math.cos(0.39772363794 + 6438.4962494256 * t);
-        X4 += 0.00000000018 * Math.cos(0.96034807462 + 6489.776587288 * t);
-        X4 += 0.00000000015 * Math.cos(0.82846675812 + 7477.522860216 * t);
-        X4 += 0.00000000012 * Math.cos(5.75575668169 + 6682.2051744678 * t);
-        X4 += 0.00000000012 * Math.cos(5.37191984330 + 4399.994356889 * t);
-        X4 += 0.00000000013 * Math.cos(5.72126392176 + 10177.2576795336 * t);
-        X4 += 0.00000000014 * Math.cos(3.82771110265 + 7234.794256242 * t);
-        X4 += 0.00000000011 * Math.cos(3.51933198406 + 10264.5658840734 * t);
-        X4 += 0.00000000011 * Math.cos(2.26503455301 + 7079.3738568078 * t);
-        X4 += 0.00000000012 * Math.cos(1.11898359111 + 5729.506447149 * t);
-        X4 += 0.00000000013 * Math.cos(2.72384207552 + 13365.9728251482 * t);
-        X4 += 0.00000000010 * Math.cos(2.51049102387 + 5331.3574437408 * t);
-        X4 += 0.00000000011 * Math.cos(2.67531582625 + 26724.8994135984 * t);
-        X4 += 0.00000000008 * Math.cos(4.88874609130 + 6298.3283211764 * t);
-        X4 += 0.00000000007 * Math.cos(5.72637498363 + 7875.6718636242 * t);
-        X4 += 0.00000000007 * Math.cos(3.90588497604 + 4933.2084403326 * t);
-        X4 += 0.00000000004 * Math.cos(5.28325791601 + 13207.029307365 * t);
-        X4 += 0.00000000004 * Math.cos(0.05439896723 + 9468.267877257 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 21 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000000360 * Math.cos(5.54721578166 + 10021.8372800994 * t);
-        X5 += 0.00000000274 * Math.cos(2.70467042100 + 3185.1920272656 * t);
-        X5 += 0.00000000274 * Math.cos(0.28001490932 + 3496.032826134 * t);
-        X5 += 0.00000000240 * Math.cos(5.97967755050 + 13362.4497067992 * t);
-        X5 += 0.00000000160 * Math.cos(5.82127895853 + 3340.6124266998 * t);
-        X5 += 0.00000000092 * Math.cos(0.08533910188 + 16703.062133499 * t);
-        X5 += 0.00000000077 * Math.cos(1.68294648354 + 3097.88382272579 * t);
-        X5 += 0.00000000077 * Math.cos(1.29922778151 + 3583.3410306738 * t);
-        X5 += 0.00000000069 * Math.cos(5.21105165761 + 6681.2248533996 * t);
-        X5 -= 0.00000000087;
-        X5 += 0.00000000049 * Math.cos(3.06464731556 + 6525.8044539654 * t);
-        X5 += 0.00000000027 * Math.cos(0.47343416859 + 20043.6745601988 * t);
-        X5 += 0.00000000026 * Math.cos(5.17377669672 + 3894.1818295422 * t);
-        X5 += 0.00000000026 * Math.cos(4.09158287551 + 2787.0430238574 * t);
-        X5 += 0.00000000013 * Math.cos(0.44755146347 + 6836.6452528338 * t);
-        X5 += 0.00000000013 * Math.cos(1.66080594610 + 6923.9534573736 * t);
-        X5 += 0.00000000006 * Math.cos(0.38635391847 + 6684.7479717486 * t);
-        X5 += 0.00000000007 * Math.cos(3.42143669327 + 9866.4168806652 * t);
-        X5 += 0.00000000005 * Math.cos(4.46712294634 + 6127.6554505572 * t);
-        X5 += 0.00000000005 * Math.cos(0.84565489791 + 23384.2869868986 * t);
-        X5 += 0.00000000004 * Math.cos(1.88610464642 + 6438.4962494256 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1612 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 1.51558976277 * Math.cos(4.63212206588 + 3340.6124266998 * t);
-        Y0 += 0.07064550239 * Math.cos(4.97051892902 + 6681.2248533996 * t);
-        Y0 += 0.08655481102;
-        Y0 += 0.00493872848 * Math.cos(5.30877806694 + 10021.8372800994 * t);
-        Y0 += 0.00040917422 * Math.cos(5.64698263703 + 13362.4497067992 * t);
-        Y0 += 0.00021036784 * Math.cos(0.23240270955 + 3337.0893083508 * t);
-        Y0 += 0.00021012921 * Math.cos(5.89022773653 + 3344.1355450488 * t);
-        Y0 += 0.00011370034 * Math.cos(3.26131408801 + 1059.3819301892 * t);
-        Y0 += 0.00013324177 * Math.cos(5.34259389724 + 529.6909650946 * t);
-        Y0 += 0.00006764653 * Math.cos(4.07671230062 + 3340.629680352 * t);
-        Y0 += 0.00006764700 * Math.cos(2.04594066912 + 3340.5951730476 * t);
-        Y0 += 0.00008346220 * Math.cos(3.42464704002 + 2281.2304965106 * t);
-        Y0 += 0.00005400042 * Math.cos(5.81507793194 + 2942.4634232916 * t);
-        Y0 += 0.00004809528 * Math.cos(0.27875310553 + 3738.761430108 * t);
-        Y0 += 0.00004849523 * Math.cos(2.85190987550 + 5621.8429232104 * t);
-        Y0 += 0.00005263268 * Math.cos(0.75811089992 + 6151.533888305 * t);
-        Y0 += 0.00003609527 * Math.cos(4.53244488294 + 796.2980068164 * t);
-        Y0 += 0.00003724293 * Math.cos(5.98516013322 + 16703.062133499 * t);
-        Y0 += 0.00003805073 * Math.cos(5.94234296399 + 398.1490034082 * t);
-        Y0 += 0.00002394490 * Math.cos(5.34678816191 + 3149.1641605882 * t);
-        Y0 += 0.00002251027 * Math.cos(0.76938193892 + 3532.0606928114 * t);
-        Y0 += 0.00001975769 * Math.cos(0.56949816579 + 6677.7017350506 * t);
-        Y0 += 0.00002226030 * Math.cos(5.99867316288 + 3340.6797370026 * t);
-        Y0 += 0.00002226089 * Math.cos(0.12398424247 + 3340.545116397 * t);
-        Y0 += 0.00002177591 * Math.cos(0.12334436516 + 6283.0758499914 * t);
-        Y0 += 0.00001690439 * Math.cos(1.58331163985 + 5884.9268465832 * t);
-        Y0 += 0.00002234121 * Math.cos(3.24909113765 + 8962.4553499102 * t);
-        Y0 += 0.00001628395 * Math.cos(4.95250906888 + 4136.9104335162 * t);
-        Y0 += 0.00001956411 * Math.cos(6.23095843554 + 6684.7479717486 * t);
-        Y0 += 0.00001697214 * Math.cos(0.81869636263 + 2544.3144198834 * t);
-        Y0 += 0.00001385946 * Math.cos(3.73437191158 + 1751.539531416 * t);
-        Y0 += 0.00001439619 * Math.cos(5.19505958438 + 2810.9214616052 * t);
-        Y0 += 0.00001281890 * Math.cos(3.13035275682 + 1194.4470102246 * t);
-        Y0 += 0.00001469783 * Math.cos(0.30415060688 + 3870.3033917944 * t);
-        Y0 += 0.00001571880 * Math.cos(3.27679498650 + 1589.0728952838 * t);
-        Y0 += 0.00001575854 * Math.cos(2.78266835243 + 5092.1519581158 * t);
-        Y0 += 0.00000955007 * Math.cos(3.80044052913 + 426.598190876 * t);
-        Y0 += 0.00000819149 * Math.cos(3.58786440540 + 4399.994356889 * t);
-        Y0 += 0.00000709907 * Math.cos(4.50556127152 + 191.4482661116 * t);
-        Y0 += 0.00000719204 * Math.cos(1.08354735050 + 9492.1463150048 * t);
-        Y0 += 0.00000630626 * Math.cos(2.38434217274 + 6681.2075997474 * t);
-        Y0 += 0.00000630626 * Math.cos(4.41511380423 + 6681.2421070518 * t);
-        Y0 += 0.00000699407 * Math.cos(5.71737497910 + 213.299095438 * t);
-        Y0 += 0.00000592563 * Math.cos(2.82214112368 + 5486.777843175 * t);
-        Y0 += 0.00000581408 * Math.cos(2.38087976114 + 3185.1920272656 * t);
-        Y0 += 0.00000551361 * Math.cos(3.73720813913 + 3496.032826134 * t);
-        Y0 += 0.00000491736 * Math.cos(0.60462673907 + 7079.3738568078 * t);
-        Y0 += 0.00000403176 * Math.cos(3.49532014869 + 8432.7643848156 * t);
-        Y0 += 0.00000532702 * Math.cos(1.72629618682 + 1592.5960136328 * t);
-        Y0 += 0.00000417187 * Math.cos(2.39288855164 + 3339.6321056316 * t);
-        Y0 += 0.00000417083 * Math.cos(3.72975291794 + 3341.592747768 * t);
-        Y0 += 0.00000392731 * Math.cos(1.39110771836 + 2146.1654164752 * t);
-        Y0 += 0.00000359894 * Math.cos(0.04010740278 + 20043.6745601988 * t);
-        Y0 += 0.00000352248 * Math.cos(2.32029465959 + 6254.6266625236 * t);
-        Y0 += 0.00000351559 * Math.cos(3.59860692655 + 12303.06777661 * t);
-        Y0 += 0.00000321064 * Math.cos(0.37146017150 + 3553.9115221378 * t);
-        Y0 += 0.00000313108 * Math.cos(5.61766202779 + 3127.3133312618 * t);
-        Y0 += 0.00000266755 * Math.cos(2.88006209994 + 4562.4609930212 * t);
-        Y0 += 0.00000281855 * Math.cos(0.42150291554 + 7.1135470008 * t);
-        Y0 += 0.00000259253 * Math.cos(0.32102915510 + 1990.745017041 * t);
-        Y0 += 0.00000313501 * Math.cos(3.53468286874 + 4535.0594369244 * t);
-        Y0 += 0.00000265807 * Math.cos(4.13657205734 + 5088.6288397668 * t);
-        Y0 += 0.00000271152 * Math.cos(0.37550883198 + 6467.9257579616 * t);
-        Y0 += 0.00000223029 * Math.cos(1.98134328602 + 3319.8370312074 * t);
-        Y0 += 0.00000221308 * Math.cos(4.14094711258 + 3361.3878221922 * t);
-        Y0 += 0.00000233740 * Math.cos(0.46548637345 + 9623.6882766912 * t);
-        Y0 += 0.00000212622 * Math.cos(2.22578594563 + 1748.016413067 * t);
-        Y0 += 0.00000207526 * Math.cos(0.46238962685 + 6681.1575430968 * t);
-        Y0 += 0.00000205079 * Math.cos(0.28680735926 + 10025.3603984484 * t);
-        Y0 += 0.00000207717 * Math.cos(0.90733952000 + 10018.3141617504 * t);
-        Y0 += 0.00000193140 * Math.cos(3.36083067358 + 2118.7638603784 * t);
-        Y0 += 0.00000244575 * Math.cos(2.80556071941 + 2914.0142358238 * t);
-        Y0 += 0.00000218542 * Math.cos(5.68744233165 + 6489.776587288 * t);
-        Y0 += 0.00000207526 * Math.cos(0.05389324000 + 6681.2921637024 * t);
-        Y0 += 0.00000178369 * Math.cos(4.10543898205 + 1221.8485663214 * t);
-        Y0 += 0.00000156876 * Math.cos(5.19786609301 + 2388.8940204492 * t);
-        Y0 += 0.00000146513 * Math.cos(5.54868179527 + 4690.4798363586 * t);
-        Y0 += 0.00000176877 * Math.cos(2.69854646339 + 2957.7158944766 * t);
-        Y0 += 0.00000147659 * Math.cos(0.90344856519 + 7210.9158184942 * t);
-        Y0 += 0.00000164583 * Math.cos(5.28781848597 + 7477.522860216 * t);
-        Y0 += 0.00000153824 * Math.cos(2.87500720379 + 639.897286314 * t);
-        Y0 += 0.00000148488 * Math.cos(3.34244341315 + 3723.508958923 * t);
-        Y0 += 0.00000146666 * Math.cos(2.84397856099 + 3337.021998048 * t);
-        Y0 += 0.00000166545 * Math.cos(1.59865996295 + 10213.285546211 * t);
-        Y0 += 0.00000146054 * Math.cos(3.27515242640 + 3344.2028553516 * t);
-        Y0 += 0.00000123680 * Math.cos(2.52811225465 + 7903.073419721 * t);
-        Y0 += 0.00000120116 * Math.cos(3.09142091867 + 11773.3768115154 * t);
-        Y0 += 0.00000132007 * Math.cos(3.42890155754 + 1349.8674096588 * t);
-        Y0 += 0.00000143810 * Math.cos(3.78998571160 + 2787.0430238574 * t);
-        Y0 += 0.00000115489 * Math.cos(1.95561523091 + 3333.498879699 * t);
-        Y0 += 0.00000111935 * Math.cos(4.78148495483 + 3205.5473466644 * t);
-        Y0 += 0.00000118091 * Math.cos(3.61471499659 + 4929.6853219836 * t);
-        Y0 += 0.00000106593 * Math.cos(1.33768476661 + 3475.6775067352 * t);
-        Y0 += 0.00000120156 * Math.cos(1.83813184657 + 9225.539273283 * t);
-        Y0 += 0.00000104155 * Math.cos(0.75138682237 + 4292.3308329504 * t);
-        Y0 += 0.00000103341 * Math.cos(0.82609816627 + 382.8965322232 * t);
-        Y0 += 0.00000095750 * Math.cos(4.24181219758 + 3347.7259737006 * t);
-        Y0 += 0.00000088744 * Math.cos(1.41592655082 + 12832.7587417046 * t);
-        Y0 += 0.00000110471 * Math.cos(1.21942577303 + 155.4203994342 * t);
-        Y0 += 0.00000084990 * Math.cos(5.11937799314 + 3097.88382272579 * t);
-        Y0 += 0.00000114691 * Math.cos(2.26053594900 + 3894.1818295422 * t);
-        Y0 += 0.00000080587 * Math.cos(0.97053595716 + 3583.3410306738 * t);
-        Y0 += 0.00000085293 * Math.cos(2.11362771170 + 4933.2084403326 * t);
-        Y0 += 0.00000086745 * Math.cos(4.75160801779 + 951.7184062506 * t);
-        Y0 += 0.00000084319 * Math.cos(5.69047773316 + 6674.1113063988 * t);
-        Y0 += 0.00000072943 * Math.cos(3.45974237107 + 1052.2683831884 * t);
-        Y0 += 0.00000074027 * Math.cos(4.31857883803 + 3767.2106175758 * t);
-        Y0 += 0.00000068071 * Math.cos(6.11774649834 + 553.5694028424 * t);
-        Y0 += 0.00000091809 * Math.cos(2.68866263038 + 9595.2390892234 * t);
-        Y0 += 0.00000073606 * Math.cos(3.91527582136 + 7740.6067835888 * t);
-        Y0 += 0.00000064894 * Math.cos(3.02584743891 + 6041.3275670856 * t);
-        Y0 += 0.00000066066 * Math.cos(0.03236682162 + 1066.49547719 * t);
-        Y0 += 0.00000066771 * Math.cos(3.82875505983 + 2700.7151403858 * t);
-        Y0 += 0.00000054123 * Math.cos(2.72119014356 + 6525.8044539654 * t);
-        Y0 += 0.00000066161 * Math.cos(4.75332288251 + 10021.8545337516 * t);
-        Y0 += 0.00000049846 * Math.cos(3.52262872498 + 3312.163239232 * t);
-        Y0 += 0.00000049143 * Math.cos(2.60082752399 + 3369.0616141676 * t);
-        Y0 += 0.00000047251 * Math.cos(3.94147277349 + 15643.6802033098 * t);
-        Y0 += 0.00000066161 * Math.cos(2.72255125102 + 10021.8200264472 * t);
-        Y0 += 0.00000043247 * Math.cos(0.37556254004 + 149.5631971346 * t);
-        Y0 += 0.00000053311 * Math.cos(0.93765731929 + 10419.9862835076 * t);
-        Y0 += 0.00000046825 * Math.cos(2.48327781591 + 8429.2412664666 * t);
-        Y0 += 0.00000038910 * Math.cos(4.06810437323 + 6682.2051744678 * t);
-        Y0 += 0.00000038629 * Math.cos(3.82156635464 + 8031.0922630584 * t);
-        Y0 += 0.00000043007 * Math.cos(1.13946411806 + 3325.3599555148 * t);
-        Y0 += 0.00000049389 * Math.cos(0.37266734023 + 2274.1169495098 * t);
-        Y0 += 0.00000042804 * Math.cos(4.98193512793 + 3355.8648978848 * t);
-        Y0 += 0.00000045414 * Math.cos(3.29703568928 + 2288.3440435114 * t);
-        Y0 += 0.00000036267 * Math.cos(0.37822711569 + 23384.2869868986 * t);
-        Y0 += 0.00000039750 * Math.cos(2.86822975445 + 4032.7700279266 * t);
-        Y0 += 0.00000040833 * Math.cos(2.03724184335 + 536.8045120954 * t);
-        Y0 += 0.00000038416 * Math.cos(5.50718482024 + 522.5774180938 * t);
-        Y0 += 0.00000044799 * Math.cos(2.74299278394 + 3077.528503327 * t);
-        Y0 += 0.00000031454 * Math.cos(2.64713766872 + 5628.9564702112 * t);
-        Y0 += 0.00000031440 * Math.cos(0.69172824614 + 5331.3574437408 * t);
-        Y0 += 0.00000036126 * Math.cos(0.70225541331 + 9808.5381846614 * t);
-        Y0 += 0.00000031627 * Math.cos(3.54155757104 + 2648.454825473 * t);
-        Y0 += 0.00000032887 * Math.cos(0.52877756255 + 242.728603974 * t);
-        Y0 += 0.00000029779 * Math.cos(1.13126848611 + 7064.1213856228 * t);
-        Y0 += 0.00000039043 * Math.cos(2.73213911386 + 6680.2445323314 * t);
-        Y0 += 0.00000032361 * Math.cos(3.86902085523 + 7875.6718636242 * t);
-        Y0 += 0.00000030949 * Math.cos(5.83140858910 + 3.523118349 * t);
-        Y0 += 0.00000038473 * Math.cos(0.77890834630 + 6894.5239488376 * t);
-        Y0 += 0.00000040037 * Math.cos(3.38427304732 + 3603.6963500726 * t);
-        Y0 += 0.00000027656 * Math.cos(0.80781446139 + 12964.300703391 * t);
-        Y0 += 0.00000027767 * Math.cos(2.59284816570 + 7373.3824546264 * t);
-        Y0 += 0.00000027615 * Math.cos(6.03842471271 + 5614.7293762096 * t);
-        Y0 += 0.00000027209 * Math.cos(3.09945915500 + 11243.6858464208 * t);
-        Y0 += 0.00000029756 * Math.cos(3.84776340814 + 3178.1457905676 * t);
-        Y0 += 0.00000028657 * Math.cos(2.32631705170 + 3503.079062832 * t);
-        Y0 += 0.00000023678 * Math.cos(2.22043284741 + 3320.257107301 * t);
-        Y0 += 0.00000023510 * Math.cos(3.90077126172 + 3360.96774609859 * t);
-        Y0 += 0.00000024414 * Math.cos(0.04911627531 + 76.2660712756 * t);
-        Y0 += 0.00000022360 * Math.cos(3.29132317156 + 15113.9892382152 * t);
-        Y0 += 0.00000022672 * Math.cos(0.62541647411 + 13365.9728251482 * t);
-        Y0 += 0.00000029996 * Math.cos(3.59488057957 + 103.0927742186 * t);
-        Y0 += 0.00000023118 * Math.cos(2.67406939478 + 1692.1656695024 * t);
-        Y0 += 0.00000024697 * Math.cos(4.51176067682 + 692.1576012268 * t);
-        Y0 += 0.00000021808 * Math.cos(0.39209935673 + 10021.9045904022 * t);
-        Y0 += 0.00000021387 * Math.cos(2.33304379441 + 6660.4494579072 * t);
-        Y0 += 0.00000020715 * Math.cos(2.52216424761 + 1581.959348283 * t);
-        Y0 += 0.00000021808 * Math.cos(0.80059574357 + 10021.7699697966 * t);
-        Y0 += 0.00000025137 * Math.cos(5.06242825009 + 3335.0895023924 * t);
-        Y0 += 0.00000025085 * Math.cos(1.05978392516 + 3346.1353510072 * t);
-        Y0 += 0.00000024344 * Math.cos(5.15348656249 + 7632.9432596502 * t);
-        Y0 += 0.00000022802 * Math.cos(6.02803412581 + 9830.3890139878 * t);
-        Y0 += 0.00000025142 * Math.cos(4.04165606796 + 1648.4467571974 * t);
-        Y0 += 0.00000019246 * Math.cos(5.68073325802 + 3329.97576135 * t);
-        Y0 += 0.00000019171 * Math.cos(0.43949269085 + 3351.2490920496 * t);
-        Y0 += 0.00000018713 * Math.cos(5.45372592751 + 6438.4962494256 * t);
-        Y0 += 0.00000017629 * Math.cos(5.62148452536 + 6872.6731195112 * t);
-        Y0 += 0.00000023406 * Math.cos(4.38193206835 + 1758.6530784168 * t);
-        Y0 += 0.00000019932 * Math.cos(5.89893308094 + 2818.035008606 * t);
-        Y0 += 0.00000018896 * Math.cos(0.12478161870 + 3863.1898447936 * t);
-        Y0 += 0.00000020614 * Math.cos(1.58112721470 + 10713.9948813262 * t);
-        Y0 += 0.00000020199 * Math.cos(3.63716191406 + 9381.9399937854 * t);
-        Y0 += 0.00000020392 * Math.cos(1.69497220340 + 10404.7338123226 * t);
-        Y0 += 0.00000022995 * Math.cos(1.24532174509 + 13358.9265884502 * t);
-        Y0 += 0.00000018341 * Math.cos(4.17761073049 + 11371.7046897582 * t);
-        Y0 += 0.00000020656 * Math.cos(4.47723827677 + 6702.000248892 * t);
-        Y0 += 0.00000017462 * Math.cos(5.47626814223 + 3074.005384978 * t);
-        Y0 += 0.00000019538 * Math.cos(5.36428737888 + 2707.8286873866 * t);
-        Y0 += 0.00000016274 * Math.cos(1.33418754245 + 10551.528245194 * t);
-        Y0 += 0.00000016226 * Math.cos(3.03590297335 + 6298.3283211764 * t);
-        Y0 += 0.00000017152 * Math.cos(3.69045512260 + 6836.6452528338 * t);
-        Y0 += 0.00000017718 * Math.cos(5.62526789753 + 10818.1352869158 * t);
-        Y0 += 0.00000016186 * Math.cos(0.64022063667 + 3607.2194684216 * t);
-        Y0 += 0.00000015103 * Math.cos(5.67174037306 + 10973.55568635 * t);
-        Y0 += 0.00000016513 * Math.cos(0.57398291904 + 6158.6474353058 * t);
-        Y0 += 0.00000019594 * Math.cos(1.94488622867 + 853.196381752 * t);
-        Y0 += 0.00000014987 * Math.cos(3.20375305228 + 5099.2655051166 * t);
-        Y0 += 0.00000014941 * Math.cos(5.74767895336 + 6531.661656265 * t);
-        Y0 += 0.00000013625 * Math.cos(0.78468384069 + 419.4846438752 * t);
-        Y0 += 0.00000015679 * Math.cos(2.89209321078 + 3333.5661900018 * t);
-        Y0 += 0.00000014418 * Math.cos(0.21259774344 + 7234.794256242 * t);
-        Y0 += 0.00000013479 * Math.cos(3.61192484167 + 6684.8152820514 * t);
-        Y0 += 0.00000016142 * Math.cos(5.55386288400 + 5729.506447149 * t);
-        Y0 += 0.00000013923 * Math.cos(3.03761491100 + 12935.8515159232 * t);
-        Y0 += 0.00000016080 * Math.cos(4.06222327337 + 6144.4203413042 * t);
-        Y0 += 0.00000012795 * Math.cos(0.72051055394 + 3336.7310913418 * t);
-        Y0 += 0.00000012778 * Math.cos(5.40972437724 + 3344.4937620578 * t);
-        Y0 += 0.00000016730 * Math.cos(0.87141658782 + 3973.396166013 * t);
-        Y0 += 0.00000017426 * Math.cos(3.89104366040 + 74.7815985673 * t);
-        Y0 += 0.00000015187 * Math.cos(3.70157240216 + 5459.3762870782 * t);
-        Y0 += 0.00000013731 * Math.cos(3.68029494669 + 433.7117378768 * t);
-        Y0 += 0.00000013717 * Math.cos(4.13705109844 + 6127.6554505572 * t);
-        Y0 += 0.00000012455 * Math.cos(4.85280703682 + 2487.4160449478 * t);
-        Y0 += 0.00000012109 * Math.cos(3.30084266721 + 3980.5097130138 * t);
-        Y0 += 0.00000012180 * Math.cos(3.07347183013 + 3281.2385647862 * t);
-        Y0 += 0.00000013697 * Math.cos(3.17688013290 + 6677.6344247478 * t);
-        Y0 += 0.00000011920 * Math.cos(3.05684725811 + 3399.9862886134 * t);
-        Y0 += 0.00000012440 * Math.cos(3.47218242490 + 4989.0591838972 * t);
-        Y0 += 0.00000011984 * Math.cos(0.71488214373 + 1744.4259844152 * t);
-        Y0 += 0.00000013476 * Math.cos(0.01515226059 + 1596.1864422846 * t);
-        Y0 += 0.00000013602 * Math.cos(4.01636834736 + 3415.3940252671 * t);
-        Y0 += 0.00000013560 * Math.cos(6.04193914571 + 5085.038411115 * t);
-        Y0 += 0.00000011119 * Math.cos(3.94896791447 + 8270.2977486834 * t);
-        Y0 += 0.00000011044 * Math.cos(1.24284218830 + 110.2063212194 * t);
-        Y0 += 0.00000011077 * Math.cos(1.67963136830 + 6816.289933435 * t);
-        Y0 += 0.00000012942 * Math.cos(3.09428514061 + 8969.568896911 * t);
-        Y0 += 0.00000010572 * Math.cos(0.49111944928 + 2921.1277828246 * t);
-        Y0 += 0.00000012672 * Math.cos(2.10673786116 + 3265.8308281325 * t);
-        Y0 += 0.00000013864 * Math.cos(5.14485151295 + 6546.1597733642 * t);
-        Y0 += 0.00000013089 * Math.cos(0.23087557907 + 8955.3418029094 * t);
-        Y0 += 0.00000013108 * Math.cos(0.46269227053 + 3443.7052009184 * t);
-        Y0 += 0.00000010887 * Math.cos(5.60860774504 + 3316.733988952 * t);
-        Y0 += 0.00000013658 * Math.cos(3.07674640526 + 3347.6586633978 * t);
-        Y0 += 0.00000010779 * Math.cos(0.52098721533 + 3364.4908644476 * t);
-        Y0 += 0.00000010586 * Math.cos(3.70485484511 + 5828.0284716476 * t);
-        Y0 += 0.00000012245 * Math.cos(1.07572499863 + 135.0650800354 * t);
-        Y0 += 0.00000010723 * Math.cos(1.74814138432 + 16173.3711684044 * t);
-        Y0 += 0.00000013097 * Math.cos(4.64132274437 + 6688.3384004004 * t);
-        Y0 += 0.00000011398 * Math.cos(5.58264073154 + 3237.5196524812 * t);
-        Y0 += 0.00000009456 * Math.cos(1.78215703758 + 11769.8536931664 * t);
-        Y0 += 0.00000009867 * Math.cos(2.38731218242 + 14584.2982731206 * t);
-        Y0 += 0.00000009346 * Math.cos(4.47625335129 + 3304.5845600224 * t);
-        Y0 += 0.00000009214 * Math.cos(1.65436128537 + 3376.6402933772 * t);
-        Y0 += 0.00000008918 * Math.cos(2.45020419452 + 8273.8208670324 * t);
-        Y0 += 0.00000012157 * Math.cos(6.01959905524 + 10014.7237330986 * t);
-        Y0 += 0.00000011461 * Math.cos(1.82889516132 + 3024.2205570432 * t);
-        Y0 += 0.00000008958 * Math.cos(0.47938419982 + 3340.19235060619 * t);
-        Y0 += 0.00000008958 * Math.cos(5.65082995747 + 3341.0325027934 * t);
-        Y0 += 0.00000008219 * Math.cos(3.15133566986 + 8827.3902698748 * t);
-        Y0 += 0.00000009305 * Math.cos(0.78791668509 + 10575.4066829418 * t);
-        Y0 += 0.00000010555 * Math.cos(0.77207843626 + 12168.0026965746 * t);
-        Y0 += 0.00000010404 * Math.cos(4.29473071484 + 3657.0042963564 * t);
-        Y0 += 0.00000007752 * Math.cos(4.94195070566 + 162.4666361322 * t);
-        Y0 += 0.00000008284 * Math.cos(6.07424265191 + 6604.958782124 * t);
-        Y0 += 0.00000007693 * Math.cos(5.84469694248 + 1861.7458526354 * t);
-        Y0 += 0.00000007330 * Math.cos(5.44972077375 + 3760.097070575 * t);
-        Y0 += 0.00000007360 * Math.cos(5.09396940186 + 13362.4669604514 * t);
-        Y0 += 0.00000009027 * Math.cos(3.31681299907 + 6784.3176276182 * t);
-        Y0 += 0.00000007581 * Math.cos(2.57329415226 + 3134.4268782626 * t);
-        Y0 += 0.00000007340 * Math.cos(3.06011730362 + 13362.432453147 * t);
-        Y0 += 0.00000006923 * Math.cos(2.23261982586 + 3169.9395560806 * t);
-        Y0 += 0.00000007281 * Math.cos(3.49687859929 + 3546.797975137 * t);
-        Y0 += 0.00000008392 * Math.cos(1.78654425962 + 12566.1516999828 * t);
-        Y0 += 0.00000007558 * Math.cos(1.86612263411 + 3209.0704650134 * t);
-        Y0 += 0.00000007302 * Math.cos(4.88716898503 + 2178.137722292 * t);
-        Y0 += 0.00000007609 * Math.cos(3.51290319043 + 3304.0070613956 * t);
-        Y0 += 0.00000006549 * Math.cos(4.33945759933 + 1118.7557921028 * t);
-        Y0 += 0.00000007465 * Math.cos(1.30260145767 + 6923.9534573736 * t);
-        Y0 += 0.00000006446 * Math.cos(4.21304551726 + 3341.0423098265 * t);
-        Y0 += 0.00000006446 * Math.cos(1.91072140138 + 3340.1825435731 * t);
-        Y0 += 0.00000007519 * Math.cos(2.61412619102 + 3377.217792004 * t);
-        Y0 += 0.00000006453 * Math.cos(3.89234671045 + 3511.285297319 * t);
-        Y0 += 0.00000006649 * Math.cos(6.12912980173 + 1375.7737998458 * t);
-        Y0 += 0.00000006449 * Math.cos(0.76654877575 + 1478.8665740644 * t);
-        Y0 += 0.00000006210 * Math.cos(1.34955480867 + 13916.0191096416 * t);
-        Y0 += 0.00000007639 * Math.cos(4.24282694614 + 11081.2192102886 * t);
-        Y0 += 0.00000006261 * Math.cos(1.27002340476 + 956.2891559706 * t);
-        Y0 += 0.00000006940 * Math.cos(4.25393907229 + 3472.1543883862 * t);
-        Y0 += 0.00000005874 * Math.cos(5.41165981323 + 640.8776073822 * t);
-        Y0 += 0.00000006250 * Math.cos(4.38016536772 + 1162.4747044078 * t);
-        Y0 += 0.00000005775 * Math.cos(1.73266094244 + 10184.3039162316 * t);
-        Y0 += 0.00000005575 * Math.cos(2.93082058921 + 949.1756089698 * t);
-        Y0 += 0.00000006003 * Math.cos(1.27473547429 + 13760.5987102074 * t);
-        Y0 += 0.00000007296 * Math.cos(5.67050147545 + 632.7837393132 * t);
-        Y0 += 0.00000006054 * Math.cos(4.28573981877 + 18984.2926300096 * t);
-        Y0 += 0.00000005577 * Math.cos(2.97071984834 + 6843.6914895318 * t);
-        Y0 += 0.00000005413 * Math.cos(3.06854044437 + 206.1855484372 * t);
-        Y0 += 0.00000005393 * Math.cos(4.75504693723 + 1228.9621133222 * t);
-        Y0 += 0.00000006299 * Math.cos(6.14054511367 + 14314.1681130498 * t);
-        Y0 += 0.00000006835 * Math.cos(2.30456930250 + 6606.4432548323 * t);
-        Y0 += 0.00000006855 * Math.cos(0.22567806033 + 263.0839233728 * t);
-        Y0 += 0.00000005362 * Math.cos(0.17026677933 + 2766.267628365 * t);
-        Y0 += 0.00000006934 * Math.cos(3.87163883253 + 8329.671610597 * t);
-        Y0 += 0.00000005259 * Math.cos(2.86146113485 + 224.3447957019 * t);
-        Y0 += 0.00000005178 * Math.cos(1.81202672403 + 3274.1250177854 * t);
-        Y0 += 0.00000005616 * Math.cos(3.05432126136 + 9866.4168806652 * t);
-        Y0 += 0.00000006375 * Math.cos(4.15539245029 + 8439.8779318164 * t);
-        Y0 += 0.00000006110 * Math.cos(5.44128420245 + 220.4126424388 * t);
-        Y0 += 0.00000006512 * Math.cos(3.37621294675 + 4459.3682188026 * t);
-        Y0 += 0.00000005006 * Math.cos(4.31127259045 + 3407.0998356142 * t);
-        Y0 += 0.00000006280 * Math.cos(2.70715143719 + 2221.856634597 * t);
-        Y0 += 0.00000006493 * Math.cos(3.80339809861 + 38.1330356378 * t);
-        Y0 += 0.00000006520 * Math.cos(3.29969103437 + 3296.8935143948 * t);
-        Y0 += 0.00000004789 * Math.cos(0.36397268503 + 4407.1079038898 * t);
-        Y0 += 0.00000006362 * Math.cos(2.82772481424 + 3384.3313390048 * t);
-        Y0 += 0.00000005692 * Math.cos(3.59213239655 + 4569.574540022 * t);
-        Y0 += 0.00000006474 * Math.cos(4.73026165299 + 7107.8230442756 * t);
-        Y0 += 0.00000006259 * Math.cos(0.59256971500 + 1964.838626854 * t);
-        Y0 += 0.00000005039 * Math.cos(2.44093002341 + 6247.5131155228 * t);
-        Y0 += 0.00000004722 * Math.cos(5.47235333233 + 6261.7402095244 * t);
-        Y0 += 0.00000004586 * Math.cos(2.93638012393 + 6709.6740408674 * t);
-        Y0 += 0.00000006292 * Math.cos(2.83360154696 + 26087.9031415742 * t);
-        Y0 += 0.00000004872 * Math.cos(3.87415179950 + 4392.8808098882 * t);
-        Y0 += 0.00000004383 * Math.cos(1.48980757344 + 6665.9723822146 * t);
-        Y0 += 0.00000004390 * Math.cos(1.03231511278 + 13149.1506113612 * t);
-        Y0 += 0.00000004312 * Math.cos(6.19144471077 + 2807.3983432562 * t);
-        Y0 += 0.00000004360 * Math.cos(1.15230731273 + 10235.1363755374 * t);
-        Y0 += 0.00000004314 * Math.cos(3.26868649565 + 3877.4169387952 * t);
-        Y0 += 0.00000004046 * Math.cos(2.20583477320 + 14054.607308026 * t);
-        Y0 += 0.00000004008 * Math.cos(3.35863378745 + 574.3447983348 * t);
-        Y0 += 0.00000004107 * Math.cos(3.07058211212 + 10020.8569590312 * t);
-        Y0 += 0.00000004044 * Math.cos(2.81163214967 + 13517.8701062334 * t);
-        Y0 += 0.00000003822 * Math.cos(0.64521458656 + 3490.1756238344 * t);
-        Y0 += 0.00000004095 * Math.cos(4.40659363743 + 10022.8176011676 * t);
-        Y0 += 0.00000003703 * Math.cos(4.80251536531 + 6571.0185321802 * t);
-        Y0 += 0.00000004450 * Math.cos(0.89168729077 + 13524.9163429314 * t);
-        Y0 += 0.00000004526 * Math.cos(6.09427525593 + 3191.0492295652 * t);
-        Y0 += 0.00000004702 * Math.cos(2.45248932708 + 2111.6503133776 * t);
-        Y0 += 0.00000003986 * Math.cos(0.10375744687 + 6048.4411140864 * t);
-        Y0 += 0.00000003482 * Math.cos(4.20107395689 + 11216.284290324 * t);
-        Y0 += 0.00000003592 * Math.cos(6.26752744572 + 3873.8265101434 * t);
-        Y0 += 0.00000003903 * Math.cos(5.74518224407 + 3914.9572250346 * t);
-        Y0 += 0.00000004495 * Math.cos(2.48902481892 + 10177.2576795336 * t);
-        Y0 += 0.00000003444 * Math.cos(0.47927514937 + 8425.6508378148 * t);
-        Y0 += 0.00000004220 * Math.cos(0.00535283025 + 2699.7348193176 * t);
-        Y0 += 0.00000003954 * Math.cos(3.83351128588 + 6652.7756659318 * t);
-        Y0 += 0.00000003984 * Math.cos(5.84008311937 + 3981.490034082 * t);
-        Y0 += 0.00000003410 * Math.cos(4.75624627275 + 13936.794505134 * t);
-        Y0 += 0.00000003767 * Math.cos(0.71635417612 + 26724.8994135984 * t);
-        Y0 += 0.00000003387 * Math.cos(3.58149706956 + 18454.601664915 * t);
-        Y0 += 0.00000003961 * Math.cos(5.31040335152 + 2384.3232707292 * t);
-        Y0 += 0.00000003109 * Math.cos(6.13038417362 + 4555.3474460204 * t);
-        Y0 += 0.00000004007 * Math.cos(0.19405096418 + 266.6070417218 * t);
-        Y0 += 0.00000004019 * Math.cos(5.32092159727 + 6696.4773245846 * t);
-        Y0 += 0.00000003264 * Math.cos(1.14586868700 + 16304.9131300908 * t);
-        Y0 += 0.00000003093 * Math.cos(6.28077187263 + 5305.4510535538 * t);
-        Y0 += 0.00000003019 * Math.cos(5.35351440247 + 5202.3582793352 * t);
-        Y0 += 0.00000003273 * Math.cos(1.65076758838 + 5518.7501489918 * t);
-        Y0 += 0.00000002877 * Math.cos(4.90074910311 + 1332.0548875408 * t);
-        Y0 += 0.00000002905 * Math.cos(3.25849505328 + 16858.4825329332 * t);
-        Y0 += 0.00000003297 * Math.cos(1.02769227988 + 8671.9698704406 * t);
-        Y0 += 0.00000003680 * Math.cos(2.91690167677 + 2906.900688823 * t);
-        Y0 += 0.00000002950 * Math.cos(3.68236929509 + 6944.3087767724 * t);
-        Y0 += 0.00000003359 * Math.cos(2.27893480688 + 2803.8079146044 * t);
-        Y0 += 0.00000002717 * Math.cos(4.19241426109 + 6518.7582172674 * t);
-        Y0 += 0.00000002747 * Math.cos(4.88163693950 + 5724.935697429 * t);
-        Y0 += 0.00000002645 * Math.cos(3.89691136061 + 5989.0672521728 * t);
-        Y0 += 0.00000003227 * Math.cos(2.76073562282 + 647.0108333148 * t);
-        Y0 += 0.00000002528 * Math.cos(0.08271917291 + 13171.0014406876 * t);
-        Y0 += 0.00000002511 * Math.cos(5.88222082993 + 533.2140834436 * t);
-        Y0 += 0.00000002483 * Math.cos(2.30179531677 + 3313.210870603 * t);
-        Y0 += 0.00000002456 * Math.cos(3.82204754724 + 3368.0139827966 * t);
-        Y0 += 0.00000002623 * Math.cos(1.58355072138 + 16699.53901514999 * t);
-        Y0 += 0.00000003010 * Math.cos(1.80622472085 + 2008.557539159 * t);
-        Y0 += 0.00000002405 * Math.cos(4.84605046787 + 9168.6408983474 * t);
-        Y0 += 0.00000002398 * Math.cos(2.56649522216 + 17924.9106998204 * t);
-        Y0 += 0.00000002423 * Math.cos(3.17994958247 + 5732.0492444298 * t);
-        Y0 += 0.00000003339 * Math.cos(5.12360857553 + 17277.4069318338 * t);
-        Y0 += 0.00000002435 * Math.cos(4.41312658080 + 9485.032768004 * t);
-        Y0 += 0.00000002416 * Math.cos(0.73041207552 + 13362.517017102 * t);
-        Y0 += 0.00000002405 * Math.cos(0.20257003589 + 3561.0250691386 * t);
-        Y0 += 0.00000002532 * Math.cos(3.29260787559 + 6475.0393049624 * t);
-        Y0 += 0.00000002392 * Math.cos(4.34374406796 + 10596.1820784342 * t);
-        Y0 += 0.00000002432 * Math.cos(2.40533150763 + 3171.0322435668 * t);
-        Y0 += 0.00000002274 * Math.cos(1.39549918259 + 6686.747777707 * t);
-        Y0 += 0.00000002400 * Math.cos(4.57758726706 + 4672.6673142406 * t);
-        Y0 += 0.00000002448 * Math.cos(3.02028279202 + 6418.1409300268 * t);
-        Y0 += 0.00000002366 * Math.cos(1.05045564841 + 15508.6151232744 * t);
-        Y0 += 0.00000002427 * Math.cos(0.38892764633 + 6040.3472460174 * t);
-        Y0 += 0.00000002247 * Math.cos(0.65129974134 + 3343.3639373108 * t);
-        Y0 += 0.00000002247 * Math.cos(5.47246717730 + 3337.8609160888 * t);
-        Y0 += 0.00000002377 * Math.cos(3.75701877252 + 3510.1926098328 * t);
-        Y0 += 0.00000002167 * Math.cos(0.11767854689 + 2125.8774073792 * t);
-        Y0 += 0.00000002861 * Math.cos(0.41825730841 + 3342.0968994081 * t);
-        Y0 += 0.00000002948 * Math.cos(5.86605020349 + 6414.6178116778 * t);
-        Y0 += 0.00000002139 * Math.cos(4.06717048102 + 7799.9806455024 * t);
-        Y0 += 0.00000002827 * Math.cos(5.70543977377 + 3339.1279539915 * t);
-        Y0 += 0.00000002582 * Math.cos(0.96409333017 + 16706.585251848 * t);
-        Y0 += 0.00000002546 * Math.cos(3.54027578863 + 12722.5524204852 * t);
-        Y0 += 0.00000002160 * Math.cos(4.92254263405 + 9779.1086761254 * t);
-        Y0 += 0.00000002155 * Math.cos(3.68774197983 + 1795.258443721 * t);
-        Y0 += 0.00000002100 * Math.cos(3.35707551610 + 3929.677253708 * t);
-        Y0 += 0.00000002903 * Math.cos(4.69260400410 + 661.232926781 * t);
-        Y0 += 0.00000002222 * Math.cos(1.26294843768 + 7314.0085927128 * t);
-        Y0 += 0.00000002127 * Math.cos(5.81675710469 + 3120.199784261 * t);
-        Y0 += 0.00000002352 * Math.cos(5.40138877221 + 6675.7019290922 * t);
-        Y0 += 0.00000002072 * Math.cos(4.69329841596 + 16460.33352952499 * t);
-        Y0 += 0.00000002771 * Math.cos(6.09091685365 + 9872.2740829648 * t);
-        Y0 += 0.00000001996 * Math.cos(0.01333352875 + 792.7748884674 * t);
-        Y0 += 0.00000002523 * Math.cos(2.01463124837 + 846.0828347512 * t);
-        Y0 += 0.00000001980 * Math.cos(5.95709631826 + 14158.7477136156 * t);
-        Y0 += 0.00000002065 * Math.cos(0.49388965272 + 12295.9542296092 * t);
-        Y0 += 0.00000002016 * Math.cos(4.23253734433 + 6701.5801727984 * t);
-        Y0 += 0.00000002042 * Math.cos(3.11100955297 + 1545.3539829788 * t);
-        Y0 += 0.00000001975 * Math.cos(5.70749246997 + 8542.970706035 * t);
-        Y0 += 0.00000002040 * Math.cos(1.07943023634 + 1214.7350193206 * t);
-        Y0 += 0.00000002428 * Math.cos(1.78991515376 + 17256.6315363414 * t);
-        Y0 += 0.00000002221 * Math.cos(2.56014240865 + 6660.8695340008 * t);
-        Y0 += 0.00000002648 * Math.cos(2.51945261752 + 15110.4661198662 * t);
-        Y0 += 0.00000002185 * Math.cos(4.81676561022 + 10042.6126755918 * t);
-        Y0 += 0.00000002357 * Math.cos(0.65442854372 + 6460.8122109608 * t);
-        Y0 += 0.00000001933 * Math.cos(2.11467335200 + 3230.4061054804 * t);
-        Y0 += 0.00000001855 * Math.cos(0.40013387410 + 3416.8784979754 * t);
-        Y0 += 0.00000001878 * Math.cos(2.82996512240 + 2751.5475996916 * t);
-        Y0 += 0.00000001838 * Math.cos(3.38443937909 + 16276.463942623 * t);
-        Y0 += 0.00000002273 * Math.cos(2.67716254538 + 10001.061884607 * t);
-        Y0 += 0.00000001861 * Math.cos(1.26573645480 + 2945.9865416406 * t);
-        Y0 += 0.00000002216 * Math.cos(0.91630812456 + 9499.2598620056 * t);
-        Y0 += 0.00000001805 * Math.cos(0.77929673675 + 6691.8615187494 * t);
-        Y0 += 0.00000002360 * Math.cos(2.94494997079 + 14712.317116458 * t);
-        Y0 += 0.00000002416 * Math.cos(1.13890846236 + 13362.3823964964 * t);
-        Y0 += 0.00000002281 * Math.cos(2.28712289600 + 6643.0918177618 * t);
-        Y0 += 0.00000002101 * Math.cos(0.26512458923 + 14.2270940016 * t);
-        Y0 += 0.00000001770 * Math.cos(5.39660970180 + 323.5054166574 * t);
-        Y0 += 0.00000001855 * Math.cos(5.11046704890 + 13553.8979729108 * t);
-        Y0 += 0.00000001748 * Math.cos(3.00019460001 + 5032.7780962022 * t);
-        Y0 += 0.00000001715 * Math.cos(3.81102983458 + 4039.8835749274 * t);
-        Y0 += 0.00000001721 * Math.cos(3.21935371748 + 6456.8800576977 * t);
-        Y0 += 0.00000001966 * Math.cos(3.45968546817 + 12310.1813236108 * t);
-        Y0 += 0.00000002109 * Math.cos(0.54415878969 + 7203.8022714934 * t);
-        Y0 += 0.00000001672 * Math.cos(0.98005371506 + 6947.8318951214 * t);
-        Y0 += 0.00000002199 * Math.cos(5.30054419513 + 28.4491874678 * t);
-        Y0 += 0.00000001702 * Math.cos(0.53249868858 + 2675.8563815698 * t);
-        Y0 += 0.00000001669 * Math.cos(0.92596345981 + 1435.1476617594 * t);
-        Y0 += 0.00000001651 * Math.cos(4.33968588892 + 6756.0064519669 * t);
-        Y0 += 0.00000001660 * Math.cos(3.37483790709 + 9638.9407478762 * t);
-        Y0 += 0.00000001892 * Math.cos(5.79856399350 + 799.8211251654 * t);
-        Y0 += 0.00000002194 * Math.cos(3.25078967175 + 20.7753954924 * t);
-        Y0 += 0.00000002096 * Math.cos(4.33264269742 + 13119.72110282519 * t);
-        Y0 += 0.00000001589 * Math.cos(2.00183365150 + 2494.5295919486 * t);
-        Y0 += 0.00000001547 * Math.cos(3.73595833668 + 742.9900605326 * t);
-        Y0 += 0.00000001639 * Math.cos(4.23392283443 + 2679.3794999188 * t);
-        Y0 += 0.00000001532 * Math.cos(5.50075240690 + 4005.3684718298 * t);
-        Y0 += 0.00000001548 * Math.cos(6.24678563405 + 6578.132079181 * t);
-        Y0 += 0.00000001844 * Math.cos(4.01089057973 + 1039.0266107904 * t);
-        Y0 += 0.00000001555 * Math.cos(4.98628025111 + 10028.9508271002 * t);
-        Y0 += 0.00000001553 * Math.cos(2.32867697517 + 4193.8088084518 * t);
-        Y0 += 0.00000001869 * Math.cos(5.29702557581 + 3113.1362939108 * t);
-        Y0 += 0.00000001547 * Math.cos(0.07021288134 + 13355.3361597984 * t);
-        Y0 += 0.00000001463 * Math.cos(4.98430780024 + 3318.7615973734 * t);
-        Y0 += 0.00000001463 * Math.cos(1.13945911840 + 3362.4632560262 * t);
-        Y0 += 0.00000001867 * Math.cos(1.75650236110 + 13892.1406718938 * t);
-        Y0 += 0.00000001484 * Math.cos(4.23315329914 + 2604.735913168 * t);
-        Y0 += 0.00000001444 * Math.cos(3.51978992540 + 10018.2468514476 * t);
-        Y0 += 0.00000001862 * Math.cos(6.02925087361 + 6670.5881880498 * t);
-        Y0 += 0.00000001434 * Math.cos(4.87139095958 + 2075.0449480734 * t);
-        Y0 += 0.00000001428 * Math.cos(4.47987818809 + 9468.267877257 * t);
-        Y0 += 0.00000001440 * Math.cos(2.33078495148 + 2641.3412784722 * t);
-        Y0 += 0.00000001516 * Math.cos(2.83788149379 + 4922.5717749828 * t);
-        Y0 += 0.00000001429 * Math.cos(1.03218970015 + 12995.2253778368 * t);
-        Y0 += 0.00000001637 * Math.cos(5.89268196003 + 9070.1188738488 * t);
-        Y0 += 0.00000001434 * Math.cos(4.16617594484 + 3283.7140517642 * t);
-        Y0 += 0.00000001552 * Math.cos(5.46766076359 + 9886.772200064 * t);
-        Y0 += 0.00000001443 * Math.cos(5.12250897854 + 19800.9459562248 * t);
-        Y0 += 0.00000001430 * Math.cos(3.95481187554 + 10025.4277087512 * t);
-        Y0 += 0.00000001411 * Math.cos(5.78666438291 + 7895.9598727202 * t);
-        Y0 += 0.00000001403 * Math.cos(1.95715148848 + 3397.5108016354 * t);
-        Y0 += 0.00000001477 * Math.cos(5.05923233039 + 664.75604513 * t);
-        Y0 += 0.00000001422 * Math.cos(1.73849339140 + 17395.2197347258 * t);
-        Y0 += 0.00000001893 * Math.cos(3.78808072052 + 7255.5696517344 * t);
-        Y0 += 0.00000001455 * Math.cos(3.95724694508 + 2693.601593385 * t);
-        Y0 += 0.00000001700 * Math.cos(0.82628421144 + 3568.0885594888 * t);
-        Y0 += 0.00000001599 * Math.cos(3.45368152649 + 3212.5935833624 * t);
-        Y0 += 0.00000001492 * Math.cos(2.02335847018 + 6155.057006654 * t);
-        Y0 += 0.00000001330 * Math.cos(4.10649504401 + 5625.3660415594 * t);
-        Y0 += 0.00000001458 * Math.cos(4.17345665885 + 1015.6630178842 * t);
-        Y0 += 0.00000001556 * Math.cos(5.03343705939 + 699.2711482276 * t);
-        Y0 += 0.00000001329 * Math.cos(1.62600812826 + 3347.2960905739 * t);
-        Y0 += 0.00000001329 * Math.cos(4.49775879038 + 3333.9287628257 * t);
-        Y0 += 0.00000001502 * Math.cos(4.97796968434 + 3378.7454623376 * t);
-        Y0 += 0.00000001522 * Math.cos(2.67171739921 + 3468.6312700372 * t);
-        Y0 += 0.00000001395 * Math.cos(4.73053455402 + 589.0648270082 * t);
-        Y0 += 0.00000001286 * Math.cos(0.30379131125 + 3152.68727893721 * t);
-        Y0 += 0.00000001682 * Math.cos(6.22849241635 + 4775.7600884592 * t);
-        Y0 += 0.00000001600 * Math.cos(6.11925303848 + 1905.4647649404 * t);
-        Y0 += 0.00000001563 * Math.cos(3.16953602104 + 6674.1786167016 * t);
-        Y0 += 0.00000001454 * Math.cos(4.05003779520 + 8799.988713778 * t);
-        Y0 += 0.00000001260 * Math.cos(1.69516681295 + 3742.284548457 * t);
-        Y0 += 0.00000001361 * Math.cos(3.13054556500 + 6034.2140200848 * t);
-        Y0 += 0.00000001702 * Math.cos(0.42639470325 + 8646.0634802536 * t);
-        Y0 += 0.00000001307 * Math.cos(4.86294984681 + 1190.9238918756 * t);
-        Y0 += 0.00000001582 * Math.cos(3.59667619676 + 3450.8187479192 * t);
-        Y0 += 0.00000001272 * Math.cos(4.68635069953 + 6997.6167230562 * t);
-        Y0 += 0.00000001293 * Math.cos(3.67069504345 + 10124.930054318 * t);
-        Y0 += 0.00000001157 * Math.cos(2.59571504503 + 4885.9664096786 * t);
-        Y0 += 0.00000001193 * Math.cos(5.74461193872 + 6685.1061887576 * t);
-        Y0 += 0.00000001175 * Math.cos(1.89791109723 + 4076.4889402316 * t);
-        Y0 += 0.00000001273 * Math.cos(5.05031878952 + 66.4874089144 * t);
-        Y0 += 0.00000001419 * Math.cos(5.98233231598 + 3.9321532631 * t);
-        Y0 += 0.00000001127 * Math.cos(4.03094666313 + 17654.7805397496 * t);
-        Y0 += 0.00000001325 * Math.cos(5.10332504416 + 59.3738619136 * t);
-        Y0 += 0.00000001205 * Math.cos(3.32707601504 + 6688.2710900976 * t);
-        Y0 += 0.00000001183 * Math.cos(4.18544310209 + 11670.2840372968 * t);
-        Y0 += 0.00000001415 * Math.cos(2.81550588094 + 9588.1255422226 * t);
-        Y0 += 0.00000001569 * Math.cos(0.42718737380 + 1.4844727083 * t);
-        Y0 += 0.00000001112 * Math.cos(4.50778167602 + 15.252471185 * t);
-        Y0 += 0.00000001136 * Math.cos(0.27209358118 + 19402.7969528166 * t);
-        Y0 += 0.00000001102 * Math.cos(2.41369298606 + 6364.832983743 * t);
-        Y0 += 0.00000001104 * Math.cos(1.71931758367 + 6148.010769956 * t);
-        Y0 += 0.00000001171 * Math.cos(3.63619587357 + 2771.7905526724 * t);
-        Y0 += 0.00000001128 * Math.cos(3.40922804025 + 6621.850991486 * t);
-        Y0 += 0.00000001312 * Math.cos(3.60055878901 + 3311.18291816379 * t);
-        Y0 += 0.00000001312 * Math.cos(2.52320812963 + 3370.0419352358 * t);
-        Y0 += 0.00000001101 * Math.cos(4.21878444844 + 3774.3241645766 * t);
-        Y0 += 0.00000001229 * Math.cos(0.96680072191 + 3145.6410422392 * t);
-        Y0 += 0.00000001266 * Math.cos(4.04475782677 + 6887.4104018368 * t);
-        Y0 += 0.00000001197 * Math.cos(4.66589167515 + 2284.7536148596 * t);
-        Y0 += 0.00000001097 * Math.cos(0.74070558229 + 13745.3462390224 * t);
-        Y0 += 0.00000001222 * Math.cos(2.97118716033 + 3184.2117061974 * t);
-        Y0 += 0.00000001052 * Math.cos(4.36133521546 + 1197.9701285736 * t);
-        Y0 += 0.00000001086 * Math.cos(2.74984967665 + 2324.9494088156 * t);
-        Y0 += 0.00000001116 * Math.cos(4.29110122176 + 11610.9101753832 * t);
-        Y0 += 0.00000001218 * Math.cos(2.02574751453 + 10156.9023601348 * t);
-        Y0 += 0.00000001068 * Math.cos(5.67373061677 + 12721.572099417 * t);
-        Y0 += 0.00000001106 * Math.cos(2.77068073078 + 2597.6223661672 * t);
-        Y0 += 0.00000001093 * Math.cos(4.53871388488 + 5618.3198048614 * t);
-        Y0 += 0.00000001024 * Math.cos(0.06601478472 + 11766.2632645146 * t);
-        Y0 += 0.00000001193 * Math.cos(1.05540356619 + 6677.3435180416 * t);
-        Y0 += 0.00000001102 * Math.cos(3.69331514825 + 7321.1221397136 * t);
-        Y0 += 0.00000000990 * Math.cos(4.38326935686 + 3181.6689089166 * t);
-        Y0 += 0.00000000992 * Math.cos(6.20838604911 + 4140.4335518652 * t);
-        Y0 += 0.00000001146 * Math.cos(3.15309955963 + 3497.0131472022 * t);
-        Y0 += 0.00000001269 * Math.cos(3.62847699186 + 3188.7151456146 * t);
-        Y0 += 0.00000001009 * Math.cos(4.15469691601 + 4142.976349146 * t);
-        Y0 += 0.00000001311 * Math.cos(0.82653092367 + 3302.479391062 * t);
-        Y0 += 0.00000001268 * Math.cos(3.68256833294 + 6740.5987153132 * t);
-        Y0 += 0.00000001371 * Math.cos(0.13077559897 + 9945.5712088238 * t);
-        Y0 += 0.00000001109 * Math.cos(1.53029152367 + 394.6258850592 * t);
-        Y0 += 0.00000000977 * Math.cos(5.76688159627 + 3361.9480671668 * t);
-        Y0 += 0.00000000977 * Math.cos(0.35688532238 + 3319.2767862328 * t);
-        Y0 += 0.00000000969 * Math.cos(4.50338632333 + 1272.6810256272 * t);
-        Y0 += 0.00000001185 * Math.cos(5.73396555500 + 9602.3526362242 * t);
-        Y0 += 0.00000001013 * Math.cos(5.48278778939 + 2277.7073781616 * t);
-        Y0 += 0.00000001079 * Math.cos(0.61021915360 + 9389.0535407862 * t);
-        Y0 += 0.00000001347 * Math.cos(2.06223654324 + 19513.9835951042 * t);
-        Y0 += 0.00000000986 * Math.cos(1.69206195363 + 20809.4676246452 * t);
-        Y0 += 0.00000001106 * Math.cos(0.06094765066 + 3264.3463554242 * t);
-        Y0 += 0.00000000968 * Math.cos(4.43227430163 + 931.3630868518 * t);
-        Y0 += 0.00000001187 * Math.cos(4.34414977303 + 5835.1420186484 * t);
-        Y0 += 0.00000000957 * Math.cos(4.82126145069 + 6645.1969867222 * t);
-        Y0 += 0.00000001198 * Math.cos(5.16932600912 + 9065.5481241288 * t);
-        Y0 += 0.00000000943 * Math.cos(5.33537557967 + 3344.152798701 * t);
-        Y0 += 0.00000000943 * Math.cos(3.92998399256 + 3337.0720546986 * t);
-        Y0 += 0.00000000929 * Math.cos(2.07677392189 + 4001.8453534808 * t);
-        Y0 += 0.00000000977 * Math.cos(2.12311397363 + 2538.2485042536 * t);
-        Y0 += 0.00000000960 * Math.cos(2.48503648557 + 3909.4343007272 * t);
-        Y0 += 0.00000000909 * Math.cos(2.06833342083 + 3326.3853326982 * t);
-        Y0 += 0.00000001071 * Math.cos(4.54619279368 + 5195.2447323344 * t);
-        Y0 += 0.00000000943 * Math.cos(5.96075562405 + 3337.106562003 * t);
-        Y0 += 0.00000000943 * Math.cos(3.30460394818 + 3344.11829139661 * t);
-        Y0 += 0.00000000902 * Math.cos(5.15672426526 + 169.580183133 * t);
-        Y0 += 0.00000000888 * Math.cos(1.43117252150 + 16865.5287696312 * t);
-        Y0 += 0.00000000919 * Math.cos(2.04701224910 + 2067.9314010726 * t);
-        Y0 += 0.00000000884 * Math.cos(5.16952206002 + 36.6053653042 * t);
-        Y0 += 0.00000000925 * Math.cos(1.82707454475 + 1485.9801210652 * t);
-        Y0 += 0.00000000879 * Math.cos(4.09361898695 + 3354.8395207014 * t);
-        Y0 += 0.00000001201 * Math.cos(6.09845178677 + 16062.1845261168 * t);
-        Y0 += 0.00000000963 * Math.cos(2.78734439237 + 11614.4332937322 * t);
-        Y0 += 0.00000000856 * Math.cos(0.80926398517 + 6705.1032911474 * t);
-        Y0 += 0.00000000969 * Math.cos(5.16633148001 + 8958.9322315612 * t);
-        Y0 += 0.00000001200 * Math.cos(3.92847129115 + 2970.9126107594 * t);
-        Y0 += 0.00000001039 * Math.cos(0.35365785785 + 4936.7988689844 * t);
-        Y0 += 0.00000000897 * Math.cos(3.73527891349 + 11780.4903585162 * t);
-        Y0 += 0.00000000995 * Math.cos(0.26138866358 + 16335.8378045366 * t);
-        Y0 += 0.00000000868 * Math.cos(2.65649534956 + 9947.0556815321 * t);
-        Y0 += 0.00000000890 * Math.cos(4.75712150390 + 6747.712262314 * t);
-        Y0 += 0.00000001141 * Math.cos(0.97184844335 + 131.5419616864 * t);
-        Y0 += 0.00000000834 * Math.cos(0.81428487363 + 6680.804777306 * t);
-        Y0 += 0.00000000884 * Math.cos(1.87315288737 + 3232.9489027612 * t);
-        Y0 += 0.00000000818 * Math.cos(5.38279925907 + 9380.9596727172 * t);
-        Y0 += 0.00000000818 * Math.cos(4.78663456281 + 8013.2797409404 * t);
-        Y0 += 0.00000000814 * Math.cos(3.39899123402 + 16703.0448798468 * t);
-        Y0 += 0.00000001043 * Math.cos(2.49681718942 + 3492.509707785 * t);
-        Y0 += 0.00000000814 * Math.cos(5.42976286552 + 16703.07938715119 * t);
-        Y0 += 0.00000000900 * Math.cos(4.50924525053 + 8965.9784682592 * t);
-        Y0 += 0.00000000821 * Math.cos(6.16771533756 + 3358.4249488178 * t);
-        Y0 += 0.00000000821 * Math.cos(6.23923688826 + 3322.7999045818 * t);
-        Y0 += 0.00000000805 * Math.cos(3.69471748733 + 1045.1548361876 * t);
-        Y0 += 0.00000000787 * Math.cos(3.77976750586 + 735.8765135318 * t);
-        Y0 += 0.00000000967 * Math.cos(1.92764202530 + 9654.612951137 * t);
-        Y0 += 0.00000000792 * Math.cos(5.67450968586 + 7100.7094972748 * t);
-        Y0 += 0.00000000779 * Math.cos(1.71729257907 + 3499.555944483 * t);
-        Y0 += 0.00000000841 * Math.cos(4.23759405799 + 3448.2759506384 * t);
-        Y0 += 0.00000000788 * Math.cos(4.57983605830 + 14421.8316369884 * t);
-        Y0 += 0.00000000836 * Math.cos(1.41619053095 + 170.6728706192 * t);
-        Y0 += 0.00000000844 * Math.cos(3.21239075987 + 4356.275444584 * t);
-        Y0 += 0.00000000989 * Math.cos(3.67005329922 + 20199.094959633 * t);
-        Y0 += 0.00000000900 * Math.cos(1.00211769457 + 401.6721217572 * t);
-        Y0 += 0.00000001013 * Math.cos(4.38954237559 + 8859.3625756916 * t);
-        Y0 += 0.00000001009 * Math.cos(5.94344429551 + 6657.3464156518 * t);
-        Y0 += 0.00000000819 * Math.cos(4.90700253923 + 802.3639224462 * t);
-        Y0 += 0.00000001030 * Math.cos(2.19496889171 + 3710.3122426402 * t);
-        Y0 += 0.00000000787 * Math.cos(3.72966883127 + 3308.640120883 * t);
-        Y0 += 0.00000000787 * Math.cos(2.39409808737 + 3372.5847325166 * t);
-        Y0 += 0.00000000725 * Math.cos(4.63532264917 + 3229.4257844122 * t);
-        Y0 += 0.00000000812 * Math.cos(1.13677065033 + 11.0457002639 * t);
-        Y0 += 0.00000000825 * Math.cos(4.27026639346 + 3253.30422216 * t);
-        Y0 += 0.00000000838 * Math.cos(3.66947874674 + 3116.2676309979 * t);
-        Y0 += 0.00000000864 * Math.cos(1.98924766986 + 6717.252720077 * t);
-        Y0 += 0.00000000729 * Math.cos(0.68449736491 + 22743.4093795164 * t);
-        Y0 += 0.00000000720 * Math.cos(5.55705118503 + 20597.2439630412 * t);
-        Y0 += 0.00000000700 * Math.cos(3.77746305049 + 3613.2853840514 * t);
-        Y0 += 0.00000000889 * Math.cos(3.55978260808 + 7910.1869667218 * t);
-        Y0 += 0.00000000720 * Math.cos(3.79227419390 + 1062.9050485382 * t);
-        Y0 += 0.00000000694 * Math.cos(1.48841585184 + 3451.7990689874 * t);
-        Y0 += 0.00000000692 * Math.cos(2.36882551276 + 3067.9394693482 * t);
-        Y0 += 0.00000000730 * Math.cos(1.00727748667 + 6016.4688082696 * t);
-        Y0 += 0.00000000795 * Math.cos(1.85354458694 + 3427.9206312396 * t);
-        Y0 += 0.00000000688 * Math.cos(2.41477495597 + 20426.571092422 * t);
-        Y0 += 0.00000000876 * Math.cos(5.35866130411 + 2391.43681773 * t);
-        Y0 += 0.00000000723 * Math.cos(3.92475752469 + 3735.238311759 * t);
-        Y0 += 0.00000000722 * Math.cos(2.23341954634 + 15906.7641266826 * t);
-        Y0 += 0.00000000661 * Math.cos(3.51665460883 + 7270.2896804078 * t);
-        Y0 += 0.00000000651 * Math.cos(0.78545063650 + 6357.7194367422 * t);
-        Y0 += 0.00000000790 * Math.cos(1.64323479127 + 10264.5658840734 * t);
-        Y0 += 0.00000000694 * Math.cos(0.87755088753 + 1265.5674786264 * t);
-        Y0 += 0.00000000652 * Math.cos(1.55852371558 + 3212.6608936652 * t);
-        Y0 += 0.00000000711 * Math.cos(1.63332630369 + 5642.1982426092 * t);
-        Y0 += 0.00000000634 * Math.cos(1.60298193598 + 17101.2111369072 * t);
-        Y0 += 0.00000000652 * Math.cos(4.45799464174 + 485.9720527896 * t);
-        Y0 += 0.00000000666 * Math.cos(1.27481108934 + 15664.03552270859 * t);
-        Y0 += 0.00000000625 * Math.cos(2.36814325199 + 5938.234792867 * t);
-        Y0 += 0.00000000639 * Math.cos(1.93449381766 + 5408.5438277724 * t);
-        Y0 += 0.00000000621 * Math.cos(1.42292756920 + 17468.8551979454 * t);
-        Y0 += 0.00000000684 * Math.cos(2.60266690573 + 1437.1756141986 * t);
-        Y0 += 0.00000000631 * Math.cos(3.77351547579 + 3329.5667264359 * t);
-        Y0 += 0.00000000631 * Math.cos(2.35025144285 + 3351.6581269637 * t);
-        Y0 += 0.00000000631 * Math.cos(4.86274156896 + 3343.1552239806 * t);
-        Y0 += 0.00000000834 * Math.cos(5.98573063128 + 6681.6449294932 * t);
-        Y0 += 0.00000000619 * Math.cos(4.56322346372 + 3468.5639597344 * t);
-        Y0 += 0.00000000779 * Math.cos(4.63356167618 + 22324.9050567094 * t);
-        Y0 += 0.00000000683 * Math.cos(4.49253838209 + 3336.6802734367 * t);
-        Y0 += 0.00000000683 * Math.cos(1.63122853655 + 3344.5445799629 * t);
-        Y0 += 0.00000000637 * Math.cos(5.57552696396 + 151.0476698429 * t);
-        Y0 += 0.00000000600 * Math.cos(1.07842896250 + 3338.069629419 * t);
-        Y0 += 0.00000000834 * Math.cos(2.11901816690 + 24150.080051345 * t);
-        Y0 += 0.00000000735 * Math.cos(1.11347228352 + 2409.249339848 * t);
-        Y0 += 0.00000000621 * Math.cos(5.11737417220 + 10448.4354709754 * t);
-        Y0 += 0.00000000649 * Math.cos(4.60015667511 + 148.0787244263 * t);
-        Y0 += 0.00000000776 * Math.cos(1.37472992157 + 6019.9919266186 * t);
-        Y0 += 0.00000000706 * Math.cos(2.94874370922 + 6717.8302187038 * t);
-        Y0 += 0.00000000638 * Math.cos(3.48875178863 + 3826.5844794894 * t);
-        Y0 += 0.00000000586 * Math.cos(5.86003431075 + 3528.5375744624 * t);
-        Y0 += 0.00000000586 * Math.cos(2.19200605264 + 22345.2603761082 * t);
-        Y0 += 0.00000000615 * Math.cos(0.51970504765 + 1169.5882514086 * t);
-        Y0 += 0.00000000597 * Math.cos(5.87197147428 + 2540.7913015344 * t);
-        Y0 += 0.00000000589 * Math.cos(3.65950730930 + 7380.4960016272 * t);
-        Y0 += 0.00000000704 * Math.cos(1.04297020980 + 3547.3131639964 * t);
-        Y0 += 0.00000000663 * Math.cos(0.71782437194 + 2301.58581590939 * t);
-        Y0 += 0.00000000602 * Math.cos(4.55116981040 + 6681.6547365263 * t);
-        Y0 += 0.00000000672 * Math.cos(5.83404606009 + 6666.997759398 * t);
-        Y0 += 0.00000000691 * Math.cos(5.87625321159 + 6679.7403806913 * t);
-        Y0 += 0.00000000644 * Math.cos(0.37433972538 + 4289.7880356696 * t);
-        Y0 += 0.00000000559 * Math.cos(2.62955480222 + 6314.0005244372 * t);
-        Y0 += 0.00000000613 * Math.cos(2.81666478638 + 18451.07854656599 * t);
-        Y0 += 0.00000000584 * Math.cos(0.31894691338 + 2171.0241752912 * t);
-        Y0 += 0.00000000648 * Math.cos(1.07818407115 + 4133.3873151672 * t);
-        Y0 += 0.00000000610 * Math.cos(5.23007688005 + 9911.63095888 * t);
-        Y0 += 0.00000000716 * Math.cos(1.72986045966 + 19004.6479494084 * t);
-        Y0 += 0.00000000602 * Math.cos(2.63805578157 + 2854.6403739102 * t);
-        Y0 += 0.00000000600 * Math.cos(3.16504307436 + 6724.9437657046 * t);
-        Y0 += 0.00000000584 * Math.cos(2.96924262775 + 8226.5788363784 * t);
-        Y0 += 0.00000000742 * Math.cos(3.68753265144 + 2547.8375382324 * t);
-        Y0 += 0.00000000589 * Math.cos(1.36560850845 + 20.3553193988 * t);
-        Y0 += 0.00000000613 * Math.cos(2.32622469131 + 6549.6828917132 * t);
-        Y0 += 0.00000000634 * Math.cos(2.56923863836 + 6510.5519827804 * t);
-        Y0 += 0.00000000602 * Math.cos(2.24884569451 + 6680.7949702729 * t);
-        Y0 += 0.00000000527 * Math.cos(3.82884166493 + 11140.5930722022 * t);
-        Y0 += 0.00000000522 * Math.cos(2.26977914970 + 3341.7930693519 * t);
-        Y0 += 0.00000000522 * Math.cos(3.85398776894 + 3339.4317840477 * t);
-        Y0 += 0.00000000625 * Math.cos(5.85233423648 + 52175.8062831484 * t);
-        Y0 += 0.00000000546 * Math.cos(3.96156394907 + 3193.8007401762 * t);
-        Y0 += 0.00000000533 * Math.cos(0.72901836770 + 12323.4230960088 * t);
-        Y0 += 0.00000000553 * Math.cos(2.12191066592 + 3487.4241132234 * t);
-        Y0 += 0.00000000513 * Math.cos(5.35876783758 + 299.1263942692 * t);
-        Y0 += 0.00000000714 * Math.cos(6.24453003731 + 4503.0871311076 * t);
-        Y0 += 0.00000000557 * Math.cos(4.09014460295 + 316.3918696566 * t);
-        Y0 += 0.00000000584 * Math.cos(4.99460272910 + 3133.9116894032 * t);
-        Y0 += 0.00000000649 * Math.cos(0.91092905161 + 1641.3332101966 * t);
-        Y0 += 0.00000000511 * Math.cos(1.27411646883 + 16489.763038061 * t);
-        Y0 += 0.00000000505 * Math.cos(3.26910073568 + 1063.3140834523 * t);
-        Y0 += 0.00000000694 * Math.cos(4.54072508194 + 43.718912305 * t);
-        Y0 += 0.00000000542 * Math.cos(2.95211033167 + 1596.1191319818 * t);
-        Y0 += 0.00000000530 * Math.cos(5.77886387642 + 1699.2792165032 * t);
-        Y0 += 0.00000000509 * Math.cos(4.40726650224 + 6812.766815086 * t);
-        Y0 += 0.00000000489 * Math.cos(1.49622890471 + 13575.7488022372 * t);
-        Y0 += 0.00000000535 * Math.cos(3.39733194552 + 9072.6616711296 * t);
-        Y0 += 0.00000000536 * Math.cos(4.94177551833 + 3198.4337996636 * t);
-        Y0 += 0.00000000478 * Math.cos(4.20263049199 + 114.3991069134 * t);
-        Y0 += 0.00000000619 * Math.cos(3.39724967275 + 13207.029307365 * t);
-        Y0 += 0.00000000474 * Math.cos(0.14710048229 + 4246.0691233646 * t);
-        Y0 += 0.00000000527 * Math.cos(4.43881694959 + 3289.33208883739 * t);
-        Y0 += 0.00000000527 * Math.cos(1.68494996905 + 3391.89276456221 * t);
-        Y0 += 0.00000000491 * Math.cos(6.12686543849 + 3288.352111787 * t);
-        Y0 += 0.00000000491 * Math.cos(6.28008678733 + 3392.8727416126 * t);
-        Y0 += 0.00000000532 * Math.cos(0.09481122914 + 1055.4497769261 * t);
-        Y0 += 0.00000000473 * Math.cos(1.65549875820 + 4296.9015826704 * t);
-        Y0 += 0.00000000533 * Math.cos(5.15285623089 + 3535.5838111604 * t);
-        Y0 += 0.00000000483 * Math.cos(3.77260927689 + 3346.6783423296 * t);
-        Y0 += 0.00000000483 * Math.cos(2.35115764175 + 3334.54651107 * t);
-        Y0 += 0.00000000460 * Math.cos(2.87294253141 + 2281.2477501628 * t);
-        Y0 += 0.00000000460 * Math.cos(0.84217089992 + 2281.2132428584 * t);
-        Y0 += 0.00000000604 * Math.cos(5.04411661351 + 2373.6415492642 * t);
-        Y0 += 0.00000000455 * Math.cos(2.71347773637 + 8962.4726035624 * t);
-        Y0 += 0.00000000455 * Math.cos(0.68270610488 + 8962.438096258 * t);
-        Y0 += 0.00000000506 * Math.cos(1.18178617794 + 3482.791053736 * t);
-        Y0 += 0.00000000520 * Math.cos(4.81778266341 + 382.879278571 * t);
-        Y0 += 0.00000000453 * Math.cos(2.02135344772 + 2957.7331481288 * t);
-        Y0 += 0.00000000633 * Math.cos(5.05090698547 + 2963.238818784 * t);
-        Y0 += 0.00000000502 * Math.cos(3.05307431011 + 5562.4690612968 * t);
-        Y0 += 0.00000000475 * Math.cos(4.42459668952 + 23.8784377478 * t);
-        Y0 += 0.00000000604 * Math.cos(2.76951680562 + 3370.1042450032 * t);
-        Y0 += 0.00000000604 * Math.cos(3.35425011302 + 3311.1206083964 * t);
-        Y0 += 0.00000000448 * Math.cos(3.40867489514 + 13361.469385731 * t);
-        Y0 += 0.00000000500 * Math.cos(0.96736492114 + 4819.4790007642 * t);
-        Y0 += 0.00000000440 * Math.cos(3.12274959821 + 3564.9572224017 * t);
-        Y0 += 0.00000000442 * Math.cos(0.45808507261 + 227.476132789 * t);
-        Y0 += 0.00000000477 * Math.cos(4.42611192431 + 4379.6390374902 * t);
-        Y0 += 0.00000000492 * Math.cos(3.86744898089 + 11250.7993934216 * t);
-        Y0 += 0.00000000476 * Math.cos(3.15928705457 + 2295.4575905122 * t);
-        Y0 += 0.00000000468 * Math.cos(3.75342375537 + 4186.695261451 * t);
-        Y0 += 0.00000000430 * Math.cos(0.16981325181 + 4716.3862265456 * t);
-        Y0 += 0.00000000505 * Math.cos(5.41670810903 + 3495.9655158312 * t);
-        Y0 += 0.00000000450 * Math.cos(0.92683652577 + 8116.372515159 * t);
-        Y0 += 0.00000000561 * Math.cos(4.79003110975 + 4271.9755135516 * t);
-        Y0 += 0.00000000535 * Math.cos(1.82320232215 + 860.3099287528 * t);
-        Y0 += 0.00000000422 * Math.cos(1.90347011233 + 5753.3848848968 * t);
-        Y0 += 0.00000000427 * Math.cos(2.36223136799 + 1574.8458012822 * t);
-        Y0 += 0.00000000456 * Math.cos(1.82684055018 + 10006.5848089144 * t);
-        Y0 += 0.00000000422 * Math.cos(4.38918966666 + 5223.6939198022 * t);
-        Y0 += 0.00000000539 * Math.cos(0.59509723540 + 3185.2593375684 * t);
-        Y0 += 0.00000000425 * Math.cos(6.16545314121 + 5888.4499649322 * t);
-        Y0 += 0.00000000436 * Math.cos(1.02599155499 + 23539.7073863328 * t);
-        Y0 += 0.00000000478 * Math.cos(4.03784097782 + 5095.6750764648 * t);
-        Y0 += 0.00000000443 * Math.cos(5.24107173006 + 1854.6323056346 * t);
-        Y0 += 0.00000000475 * Math.cos(4.30595945262 + 6850.8050365326 * t);
-        Y0 += 0.00000000433 * Math.cos(2.49733426085 + 3376.1751611684 * t);
-        Y0 += 0.00000000433 * Math.cos(3.62643265779 + 3305.0496922312 * t);
-        Y0 += 0.00000000410 * Math.cos(5.02461670016 + 2480.302497947 * t);
-        Y0 += 0.00000000558 * Math.cos(6.20652192769 + 4025.6564809258 * t);
-        Y0 += 0.00000000423 * Math.cos(5.65906920843 + 10037.0897512844 * t);
-        Y0 += 0.00000000407 * Math.cos(1.22583553247 + 18849.2275499742 * t);
-        Y0 += 0.00000000481 * Math.cos(5.74335395262 + 6685.1570066627 * t);
-        Y0 += 0.00000000402 * Math.cos(0.22199197504 + 6151.5511419572 * t);
-        Y0 += 0.00000000402 * Math.cos(4.47440565072 + 6151.5166346528 * t);
-        Y0 += 0.00000000425 * Math.cos(2.89229866320 + 21265.5231265202 * t);
-        Y0 += 0.00000000430 * Math.cos(0.28354344501 + 2655.5683724738 * t);
-        Y0 += 0.00000000531 * Math.cos(3.22678253563 + 6637.5059410946 * t);
-        Y0 += 0.00000000477 * Math.cos(2.15054075988 + 6614.7374444852 * t);
-        Y0 += 0.00000000555 * Math.cos(1.07136034497 + 3717.9860346156 * t);
-        Y0 += 0.00000000425 * Math.cos(4.00058546704 + 7218.029365495 * t);
-        Y0 += 0.00000000402 * Math.cos(2.74134740638 + 1685.0521225016 * t);
-        Y0 += 0.00000000456 * Math.cos(3.63646339661 + 9374.8264467846 * t);
-        Y0 += 0.00000000392 * Math.cos(4.13330005973 + 3723.4917052708 * t);
-        Y0 += 0.00000000430 * Math.cos(4.01774033971 + 7696.8878712838 * t);
-        Y0 += 0.00000000486 * Math.cos(3.27620484219 + 10050.2864675672 * t);
-        Y0 += 0.00000000413 * Math.cos(4.62181012252 + 7483.5887758458 * t);
-        Y0 += 0.00000000403 * Math.cos(3.03715170877 + 18606.4989460002 * t);
-        Y0 += 0.00000000388 * Math.cos(4.53563064046 + 8564.306346502 * t);
-        Y0 += 0.00000000394 * Math.cos(0.17224799893 + 4981.9456368964 * t);
-        Y0 += 0.00000000487 * Math.cos(3.89276175312 + 1655.5603041982 * t);
-        Y0 += 0.00000000404 * Math.cos(3.65562985264 + 6644.6194880954 * t);
-        Y0 += 0.00000000382 * Math.cos(0.83080012585 + 3017.1070100424 * t);
-        Y0 += 0.00000000414 * Math.cos(0.69798224448 + 7747.7203305896 * t);
-        Y0 += 0.00000000376 * Math.cos(1.97925827985 + 20735.83216142559 * t);
-        Y0 += 0.00000000395 * Math.cos(5.71525673304 + 515.463871093 * t);
-        Y0 += 0.00000000378 * Math.cos(1.07650858210 + 9801.4246376606 * t);
-        Y0 += 0.00000000432 * Math.cos(1.20025313626 + 905.4566966648 * t);
-        Y0 += 0.00000000448 * Math.cos(3.40168164363 + 2277.2983432475 * t);
-        Y0 += 0.00000000366 * Math.cos(3.33686353957 + 912.5702436656 * t);
-        Y0 += 0.00000000437 * Math.cos(0.33111846337 + 2285.1626497737 * t);
-        Y0 += 0.00000000364 * Math.cos(0.19370376341 + 15806.146839442 * t);
-        Y0 += 0.00000000509 * Math.cos(4.47318747635 + 1765.7666254176 * t);
-        Y0 += 0.00000000424 * Math.cos(0.31309571718 + 5881.4037282342 * t);
-        Y0 += 0.00000000475 * Math.cos(2.97743590747 + 1329.51209026 * t);
-        Y0 += 0.00000000363 * Math.cos(2.53252878777 + 25685.872802808 * t);
-        Y0 += 0.00000000379 * Math.cos(5.77822316957 + 7366.2689076256 * t);
-        Y0 += 0.00000000355 * Math.cos(2.42667156551 + 5636.070017212 * t);
-        Y0 += 0.00000000475 * Math.cos(3.89107293655 + 21795.21409161479 * t);
-        Y0 += 0.00000000351 * Math.cos(4.13578832624 + 6851.8977240188 * t);
-        Y0 += 0.00000000452 * Math.cos(0.50803184514 + 6106.8800550648 * t);
-        Y0 += 0.00000000344 * Math.cos(5.37144778531 + 16894.5103996106 * t);
-        Y0 += 0.00000000364 * Math.cos(0.71572042055 + 6682.7093261079 * t);
-        Y0 += 0.00000000388 * Math.cos(2.20834855471 + 20618.0193585336 * t);
-        Y0 += 0.00000000452 * Math.cos(1.07313020826 + 4307.5833041354 * t);
-        Y0 += 0.00000000339 * Math.cos(4.53065010744 + 1883.0814931024 * t);
-        Y0 += 0.00000000361 * Math.cos(5.00906964184 + 27682.1407441564 * t);
-        Y0 += 0.00000000351 * Math.cos(2.80463066915 + 5452.2627400774 * t);
-        Y0 += 0.00000000335 * Math.cos(0.80197784093 + 15636.566656309 * t);
-        Y0 += 0.00000000434 * Math.cos(0.32563509977 + 7214.4389368432 * t);
-        Y0 += 0.00000000395 * Math.cos(4.16776570158 + 9993.3880926316 * t);
-        Y0 += 0.00000000352 * Math.cos(2.61512238463 + 1250.8301963008 * t);
-        Y0 += 0.00000000394 * Math.cos(3.54014449716 + 9797.4924843975 * t);
-        Y0 += 0.00000000327 * Math.cos(4.04880436765 + 3353.85419909779 * t);
-        Y0 += 0.00000000327 * Math.cos(2.07496255099 + 3327.3706543018 * t);
-        Y0 += 0.00000000351 * Math.cos(0.12561529818 + 13212.8865096646 * t);
-        Y0 += 0.00000000328 * Math.cos(6.15057253277 + 2435.155730035 * t);
-        Y0 += 0.00000000415 * Math.cos(3.58472859131 + 21947.11137270 * t);
-        Y0 += 0.00000000447 * Math.cos(4.74470130101 + 13363.4300278674 * t);
-        Y0 += 0.00000000336 * Math.cos(2.93237714822 + 0.9803210682 * t);
-        Y0 += 0.00000000389 * Math.cos(1.05447612688 + 30065.5118402982 * t);
-        Y0 += 0.00000000361 * Math.cos(1.50116564732 + 5749.8617665478 * t);
-        Y0 += 0.00000000444 * Math.cos(0.28150228175 + 8982.810669309 * t);
-        Y0 += 0.00000000395 * Math.cos(1.75358681150 + 3337.1566186536 * t);
-        Y0 += 0.00000000327 * Math.cos(4.40197406437 + 146.8116865236 * t);
-        Y0 += 0.00000000320 * Math.cos(4.04485044014 + 25287.7237993998 * t);
-        Y0 += 0.00000000339 * Math.cos(4.51129199209 + 14556.8967170238 * t);
-        Y0 += 0.00000000389 * Math.cos(4.52937583175 + 18052.9295431578 * t);
-        Y0 += 0.00000000408 * Math.cos(6.10449821431 + 11883.5831327348 * t);
-        Y0 += 0.00000000384 * Math.cos(4.30166402202 + 7733.493236588 * t);
-        Y0 += 0.00000000333 * Math.cos(1.83073454084 + 543.9180590962 * t);
-        Y0 += 0.00000000335 * Math.cos(2.75369658972 + 3060.8259223474 * t);
-        Y0 += 0.00000000344 * Math.cos(0.16236119441 + 568.8218740274 * t);
-        Y0 += 0.00000000314 * Math.cos(2.59903777963 + 15265.8865193004 * t);
-        Y0 += 0.00000000355 * Math.cos(6.17242188932 + 7322.1024607818 * t);
-        Y0 += 0.00000000316 * Math.cos(5.59149424389 + 3440.1820825694 * t);
-        Y0 += 0.00000000316 * Math.cos(0.53227267475 + 3241.0427708302 * t);
-        Y0 += 0.00000000354 * Math.cos(0.64235154390 + 4606.1799053262 * t);
-        Y0 += 0.00000000310 * Math.cos(5.64297192066 + 6453.7487206106 * t);
-        Y0 += 0.00000000317 * Math.cos(2.40423598623 + 2973.3880977374 * t);
-        Y0 += 0.00000000300 * Math.cos(2.21725287793 + 1987.221898692 * t);
-        Y0 += 0.00000000299 * Math.cos(4.05930436366 + 10284.9212034722 * t);
-        Y0 += 0.00000000342 * Math.cos(1.05396519831 + 14128.2427712456 * t);
-        Y0 += 0.00000000379 * Math.cos(2.27965866856 + 1461.0540519464 * t);
-        Y0 += 0.00000000294 * Math.cos(1.92173439518 + 20040.15144184979 * t);
-        Y0 += 0.00000000360 * Math.cos(3.42990211925 + 16063.164847185 * t);
-        Y0 += 0.00000000313 * Math.cos(1.30391208259 + 6286.5989683404 * t);
-        Y0 += 0.00000000307 * Math.cos(6.22295802105 + 9755.2302383776 * t);
-        Y0 += 0.00000000306 * Math.cos(4.47697327581 + 8756.269801473 * t);
-        Y0 += 0.00000000361 * Math.cos(1.45253410618 + 685.044054226 * t);
-        Y0 += 0.00000000392 * Math.cos(1.48127453453 + 19645.5255567906 * t);
-        Y0 += 0.00000000328 * Math.cos(2.03910800196 + 3397.4156888696 * t);
-        Y0 += 0.00000000328 * Math.cos(4.08465891668 + 3283.80916453 * t);
-        Y0 += 0.00000000316 * Math.cos(2.32828995492 + 5621.8601768626 * t);
-        Y0 += 0.00000000397 * Math.cos(5.55627760256 + 23141.5583829246 * t);
-        Y0 += 0.00000000294 * Math.cos(1.44129558600 + 5483.254724826 * t);
-        Y0 += 0.00000000291 * Math.cos(0.90595258507 + 11986.6759069534 * t);
-        Y0 += 0.00000000307 * Math.cos(2.00013192821 + 8749.1562544722 * t);
-        Y0 += 0.00000000314 * Math.cos(2.64774700056 + 9983.7042444616 * t);
-        Y0 += 0.00000000340 * Math.cos(3.83856139387 + 12509.2533250472 * t);
-        Y0 += 0.00000000339 * Math.cos(0.25931753019 + 3856.0762977928 * t);
-        Y0 += 0.00000000339 * Math.cos(5.86444938845 + 2825.1485556068 * t);
-        Y0 += 0.00000000283 * Math.cos(3.01099503487 + 5244.049239201 * t);
-        Y0 += 0.00000000383 * Math.cos(3.28640230880 + 2921.6880277992 * t);
-        Y0 += 0.00000000282 * Math.cos(3.52940833364 + 5106.3790521174 * t);
-        Y0 += 0.00000000302 * Math.cos(4.91996410033 + 12825.6451947038 * t);
-        Y0 += 0.00000000287 * Math.cos(2.38824152806 + 194.9713844606 * t);
-        Y0 += 0.00000000310 * Math.cos(0.61972171326 + 2060.8178540718 * t);
-        Y0 += 0.00000000330 * Math.cos(6.18492026237 + 1073.6090241908 * t);
-        Y0 += 0.00000000382 * Math.cos(1.17991122952 + 3267.3153008408 * t);
-        Y0 += 0.00000000382 * Math.cos(4.94385568912 + 3413.9095525588 * t);
-        Y0 += 0.00000000304 * Math.cos(3.37219185052 + 3620.3989310522 * t);
-        Y0 += 0.00000000285 * Math.cos(4.10904023674 + 279.7865043524 * t);
-        Y0 += 0.00000000316 * Math.cos(0.29751832342 + 5621.8256695582 * t);
-        Y0 += 0.00000000325 * Math.cos(5.36152471767 + 533.6231183577 * t);
-        Y0 += 0.00000000283 * Math.cos(1.21247425709 + 12839.8722887054 * t);
-        Y0 += 0.00000000296 * Math.cos(3.06136390749 + 187.9251477626 * t);
-        Y0 += 0.00000000283 * Math.cos(4.53197273536 + 9859.3706439672 * t);
-        Y0 += 0.00000000281 * Math.cos(3.88336320291 + 596.178374009 * t);
-        Y0 += 0.00000000271 * Math.cos(0.22764063317 + 1368.660252845 * t);
-        Y0 += 0.00000000280 * Math.cos(0.42006444847 + 16511.6138673874 * t);
-        Y0 += 0.00000000298 * Math.cos(0.08485122631 + 11236.57229942 * t);
-        Y0 += 0.00000000285 * Math.cos(0.56726195027 + 206.7007372966 * t);
-        Y0 += 0.00000000300 * Math.cos(3.90419594378 + 5820.9149246468 * t);
-        Y0 += 0.00000000321 * Math.cos(0.39004570182 + 2267.003402509 * t);
-        Y0 += 0.00000000261 * Math.cos(1.23435301369 + 20206.141196331 * t);
-        Y0 += 0.00000000316 * Math.cos(1.01160877914 + 5490.300961524 * t);
-        Y0 += 0.00000000269 * Math.cos(2.88944214463 + 2744.4340526908 * t);
-        Y0 += 0.00000000316 * Math.cos(2.18472195162 + 525.7588118315 * t);
-        Y0 += 0.00000000271 * Math.cos(3.84708232270 + 3336.0416769798 * t);
-        Y0 += 0.00000000271 * Math.cos(2.27668459594 + 3345.1831764198 * t);
-        Y0 += 0.00000000268 * Math.cos(5.19560766387 + 2149.6885348242 * t);
-        Y0 += 0.00000000251 * Math.cos(2.15515665308 + 3337.5093844444 * t);
-        Y0 += 0.00000000251 * Math.cos(3.96861026556 + 3343.7154689552 * t);
-        Y0 += 0.00000000251 * Math.cos(3.37137074296 + 9758.7533567266 * t);
-        Y0 += 0.00000000251 * Math.cos(1.54323704062 + 1903.4368125012 * t);
-        Y0 += 0.00000000291 * Math.cos(4.03266591834 + 367.2243289624 * t);
-        Y0 += 0.00000000250 * Math.cos(0.13361485614 + 2142.6422981262 * t);
-        Y0 += 0.00000000267 * Math.cos(0.96036007447 + 6830.7880505342 * t);
-        Y0 += 0.00000000306 * Math.cos(1.35986909253 + 12012.5822971404 * t);
-        Y0 += 0.00000000255 * Math.cos(3.17215031285 + 12928.7379689224 * t);
-        Y0 += 0.00000000286 * Math.cos(4.90376441028 + 1898.3512179396 * t);
-        Y0 += 0.00000000290 * Math.cos(1.30201044096 + 20047.1976785478 * t);
-        Y0 += 0.00000000268 * Math.cos(1.47703232305 + 16702.9948231962 * t);
-        Y0 += 0.00000000250 * Math.cos(0.95280868140 + 9698.331863442 * t);
-        Y0 += 0.00000000246 * Math.cos(3.89830112418 + 15650.7937503106 * t);
-        Y0 += 0.00000000247 * Math.cos(5.73950808020 + 10016.314355792 * t);
-        Y0 += 0.00000000257 * Math.cos(3.56657939800 + 5430.3946570988 * t);
-        Y0 += 0.00000000255 * Math.cos(4.87354006866 + 21548.9623692918 * t);
-        Y0 += 0.00000000269 * Math.cos(1.11468463011 + 36.0278666774 * t);
-        Y0 += 0.00000000255 * Math.cos(2.82393072524 + 26482.1708096244 * t);
-        Y0 += 0.00000000255 * Math.cos(1.56711743342 + 1727.6610936682 * t);
-        Y0 += 0.00000000276 * Math.cos(4.96569192497 + 6670.1791531357 * t);
-        Y0 += 0.00000000320 * Math.cos(5.04391570277 + 11904.9187732018 * t);
-        Y0 += 0.00000000280 * Math.cos(5.37126197378 + 5401.4302807716 * t);
-        Y0 += 0.00000000258 * Math.cos(2.68846300150 + 9488.6231966558 * t);
-        Y0 += 0.00000000269 * Math.cos(1.83867958993 + 3866.7802734454 * t);
-        Y0 += 0.00000000265 * Math.cos(2.90618128587 + 3053.6500655792 * t);
-        Y0 += 0.00000000240 * Math.cos(1.73397693635 + 10027.3602044068 * t);
-        Y0 += 0.00000000321 * Math.cos(2.82885605337 + 3759.5368256004 * t);
-        Y0 += 0.00000000319 * Math.cos(3.59122436698 + 9815.6517316622 * t);
-        Y0 += 0.00000000301 * Math.cos(3.63843739254 + 95.9792272178 * t);
-        Y0 += 0.00000000251 * Math.cos(0.12300198308 + 1279.794572628 * t);
-        Y0 += 0.00000000251 * Math.cos(5.02021336588 + 2790.5661422064 * t);
-        Y0 += 0.00000000322 * Math.cos(4.83706419059 + 17085.9586657222 * t);
-        Y0 += 0.00000000326 * Math.cos(4.20517834971 + 3707.8367556622 * t);
-        Y0 += 0.00000000311 * Math.cos(5.99598016839 + 3391.4448860056 * t);
-        Y0 += 0.00000000311 * Math.cos(0.12778675025 + 3289.779967394 * t);
-        Y0 += 0.00000000272 * Math.cos(4.72506446876 + 10706.8813343254 * t);
-        Y0 += 0.00000000230 * Math.cos(1.62590974520 + 10654.6210194126 * t);
-        Y0 += 0.00000000292 * Math.cos(5.65389851248 + 3050.1269472302 * t);
-        Y0 += 0.00000000235 * Math.cos(2.10330649321 + 5945.3483398678 * t);
-        Y0 += 0.00000000301 * Math.cos(2.35277176785 + 9495.6694333538 * t);
-        Y0 += 0.00000000227 * Math.cos(5.71659702017 + 1868.8593996362 * t);
-        Y0 += 0.00000000233 * Math.cos(3.39950183393 + 4996.172730898 * t);
-        Y0 += 0.00000000225 * Math.cos(2.61344044624 + 2938.9403049426 * t);
-        Y0 += 0.00000000225 * Math.cos(4.67024091816 + 24341.5283174566 * t);
-        Y0 += 0.00000000312 * Math.cos(4.22328014540 + 4403.517475238 * t);
-        Y0 += 0.00000000224 * Math.cos(4.82206915571 + 5.5229243074 * t);
-        Y0 += 0.00000000222 * Math.cos(1.20460555062 + 1835.3246176068 * t);
-        Y0 += 0.00000000289 * Math.cos(0.65812694051 + 6901.6374958384 * t);
-        Y0 += 0.00000000244 * Math.cos(2.21530907924 + 5349.1699658588 * t);
-        Y0 += 0.00000000268 * Math.cos(1.06853593620 + 16703.1294438018 * t);
-        Y0 += 0.00000000243 * Math.cos(1.91517218823 + 1442.2612087602 * t);
-        Y0 += 0.00000000220 * Math.cos(2.74511541811 + 6511.6446702666 * t);
-        Y0 += 0.00000000234 * Math.cos(0.06116213374 + 17499.3601403154 * t);
-        Y0 += 0.00000000224 * Math.cos(6.22254343881 + 3542.8658218739 * t);
-        Y0 += 0.00000000224 * Math.cos(6.18440878701 + 3138.3590315257 * t);
-        Y0 += 0.00000000272 * Math.cos(3.51708444353 + 2428.0421830342 * t);
-        Y0 += 0.00000000218 * Math.cos(5.88781974409 + 6283.0931036436 * t);
-        Y0 += 0.00000000218 * Math.cos(3.85704811260 + 6283.0585963392 * t);
-        Y0 += 0.00000000256 * Math.cos(6.05446717792 + 151.8972810852 * t);
-        Y0 += 0.00000000220 * Math.cos(3.19711314225 + 3987.6232600146 * t);
-        Y0 += 0.00000000219 * Math.cos(1.56460932980 + 8584.6616659008 * t);
-        Y0 += 0.00000000215 * Math.cos(5.15532893112 + 13383.2251022916 * t);
-        Y0 += 0.00000000215 * Math.cos(5.16313544064 + 5511.636601991 * t);
-        Y0 += 0.00000000224 * Math.cos(2.11540642784 + 77.7505439839 * t);
-        Y0 += 0.00000000215 * Math.cos(2.86756714739 + 5617.9107699473 * t);
-        Y0 += 0.00000000244 * Math.cos(5.85362027072 + 2814.4445799542 * t);
-        Y0 += 0.00000000211 * Math.cos(0.74742043486 + 19676.4502312364 * t);
-        Y0 += 0.00000000227 * Math.cos(2.59606896980 + 9278.8472195668 * t);
-        Y0 += 0.00000000211 * Math.cos(5.04144285274 + 12199.9750023914 * t);
-        Y0 += 0.00000000212 * Math.cos(0.14538044968 + 2392.4171387982 * t);
-        Y0 += 0.00000000237 * Math.cos(3.21759075914 + 3627.57478782039 * t);
-        Y0 += 0.00000000287 * Math.cos(1.05955224588 + 12465.5344127422 * t);
-        Y0 += 0.00000000220 * Math.cos(0.54828486823 + 6530.1771835567 * t);
-        Y0 += 0.00000000263 * Math.cos(5.32330172342 + 4531.5363185754 * t);
-        Y0 += 0.00000000249 * Math.cos(2.58328462618 + 3084.6420503278 * t);
-        Y0 += 0.00000000252 * Math.cos(3.03997100024 + 3382.1632176846 * t);
-        Y0 += 0.00000000252 * Math.cos(3.08379591840 + 3299.061635715 * t);
-        Y0 += 0.00000000267 * Math.cos(5.74809850023 + 5415.6573747732 * t);
-        Y0 += 0.00000000239 * Math.cos(1.63889533266 + 3344.068234746 * t);
-        Y0 += 0.00000000262 * Math.cos(0.46948508418 + 3631.0979061694 * t);
-        Y0 += 0.00000000206 * Math.cos(1.80117058552 + 7082.8969751568 * t);
-        Y0 += 0.00000000210 * Math.cos(5.81059147043 + 6678.4733427886 * t);
-        Y0 += 0.00000000255 * Math.cos(1.55350830983 + 1994.26813539 * t);
-        Y0 += 0.00000000210 * Math.cos(6.25153793027 + 1484.9324896942 * t);
-        Y0 += 0.00000000274 * Math.cos(4.79336564976 + 12306.590894959 * t);
-        Y0 += 0.00000000204 * Math.cos(0.76733899172 + 6382.0984591304 * t);
-        Y0 += 0.00000000223 * Math.cos(3.13516948674 + 3336.25039031 * t);
-        Y0 += 0.00000000223 * Math.cos(2.98859743190 + 3344.9744630896 * t);
-        Y0 += 0.00000000255 * Math.cos(5.28908452900 + 2942.4806769438 * t);
-        Y0 += 0.00000000224 * Math.cos(1.52427347828 + 6533.1461289733 * t);
-        Y0 += 0.00000000233 * Math.cos(5.90676932856 + 19146.7592661418 * t);
-        Y0 += 0.00000000201 * Math.cos(5.35533176059 + 9360.6043533184 * t);
-        Y0 += 0.00000000211 * Math.cos(1.15148869397 + 3890.65871119319 * t);
-        Y0 += 0.00000000227 * Math.cos(6.03580433993 + 5625.7750764735 * t);
-        Y0 += 0.00000000200 * Math.cos(6.26289082650 + 7586.6815500644 * t);
-        Y0 += 0.00000000199 * Math.cos(3.26137019616 + 3029.7716278314 * t);
-        Y0 += 0.00000000243 * Math.cos(4.23643794604 + 9329.6796788726 * t);
-        Y0 += 0.00000000199 * Math.cos(3.94721644624 + 2089.782230399 * t);
-        Y0 += 0.00000000250 * Math.cos(5.43333163998 + 24889.5747959916 * t);
-        Y0 += 0.00000000197 * Math.cos(1.15409232210 + 3436.5916539176 * t);
-        Y0 += 0.00000000197 * Math.cos(4.96967459654 + 3244.633199482 * t);
-        Y0 += 0.00000000223 * Math.cos(0.34944239276 + 3.5904286518 * t);
-        Y0 += 0.00000000197 * Math.cos(0.20677207241 + 15106.8756912144 * t);
-        Y0 += 0.00000000231 * Math.cos(2.63984097637 + 6653.8232973028 * t);
-        Y0 += 0.00000000198 * Math.cos(3.92131152950 + 3094.36070437679 * t);
-        Y0 += 0.00000000223 * Math.cos(3.01290266414 + 13341.6743113068 * t);
-        Y0 += 0.00000000198 * Math.cos(4.43881610804 + 18208.349942592 * t);
-        Y0 += 0.00000000191 * Math.cos(5.50522939133 + 3752.9835235742 * t);
-        Y0 += 0.00000000191 * Math.cos(0.61853752731 + 2928.2413298254 * t);
-        Y0 += 0.00000000192 * Math.cos(3.48407799837 + 15121.102785216 * t);
-        Y0 += 0.00000000221 * Math.cos(0.94687593506 + 3649.8907493556 * t);
-        Y0 += 0.00000000212 * Math.cos(4.83879513966 + 4538.5825552734 * t);
-        Y0 += 0.00000000192 * Math.cos(2.00799170950 + 3315.7536678838 * t);
-        Y0 += 0.00000000192 * Math.cos(4.11577520914 + 3365.4711855158 * t);
-        Y0 += 0.00000000226 * Math.cos(3.54050854737 + 3596.5828030718 * t);
-        Y0 += 0.00000000191 * Math.cos(1.07856532421 + 117.3198682202 * t);
-        Y0 += 0.00000000255 * Math.cos(3.25831289751 + 2942.4461696394 * t);
-        Y0 += 0.00000000191 * Math.cos(0.88273497404 + 10544.4146981932 * t);
-        Y0 += 0.00000000205 * Math.cos(0.67759896423 + 1059.364676537 * t);
-        Y0 += 0.00000000188 * Math.cos(0.18939361921 + 3363.3809233092 * t);
-        Y0 += 0.00000000188 * Math.cos(5.93437329943 + 3317.8439300904 * t);
-        Y0 += 0.00000000231 * Math.cos(2.52066042702 + 9093.9973115966 * t);
-        Y0 += 0.00000000228 * Math.cos(2.13919737338 + 369.6998159404 * t);
-        Y0 += 0.00000000182 * Math.cos(1.33127974270 + 5960.0856221934 * t);
-        Y0 += 0.00000000183 * Math.cos(1.25274653764 + 4878.8528626778 * t);
-        Y0 += 0.00000000193 * Math.cos(2.43223658328 + 7417.1013669314 * t);
-        Y0 += 0.00000000188 * Math.cos(0.40235506847 + 2735.762685995 * t);
-        Y0 += 0.00000000189 * Math.cos(5.13510234469 + 11353.8921676402 * t);
-        Y0 += 0.00000000180 * Math.cos(5.03093948829 + 1755.062649765 * t);
-        Y0 += 0.00000000222 * Math.cos(6.00721433544 + 3070.4149563262 * t);
-        Y0 += 0.00000000233 * Math.cos(3.17507790219 + 5351.7127631396 * t);
-        Y0 += 0.00000000177 * Math.cos(2.86226760448 + 3651.4532255682 * t);
-        Y0 += 0.00000000232 * Math.cos(3.46445207879 + 3163.918696566 * t);
-        Y0 += 0.00000000232 * Math.cos(2.65931483985 + 3517.3061568336 * t);
-        Y0 += 0.00000000176 * Math.cos(3.48010790145 + 6342.9821544166 * t);
-        Y0 += 0.00000000180 * Math.cos(5.30008115245 + 3332.5185586308 * t);
-        Y0 += 0.00000000180 * Math.cos(0.82368576619 + 3348.7062947688 * t);
-        Y0 += 0.00000000179 * Math.cos(2.20235361692 + 3586.8641490228 * t);
-        Y0 += 0.00000000185 * Math.cos(5.05060067762 + 4061.751657906 * t);
-        Y0 += 0.00000000205 * Math.cos(2.70837059572 + 1059.3991838414 * t);
-        Y0 += 0.00000000187 * Math.cos(1.04746838799 + 2619.4731954936 * t);
-        Y0 += 0.00000000176 * Math.cos(3.90353461991 + 13465.5424810178 * t);
-        Y0 += 0.00000000208 * Math.cos(2.66589443408 + 4253.1826703654 * t);
-        Y0 += 0.00000000174 * Math.cos(4.55814413103 + 10096.6188786667 * t);
-        Y0 += 0.00000000188 * Math.cos(3.92958586943 + 2574.8193622534 * t);
-        Y0 += 0.00000000175 * Math.cos(5.69635587487 + 12299.544658261 * t);
-        Y0 += 0.00000000240 * Math.cos(2.78491358774 + 5085.1057214178 * t);
-        Y0 += 0.00000000208 * Math.cos(1.23374873483 + 10721.108428327 * t);
-        Y0 += 0.00000000242 * Math.cos(2.13161585563 + 11925.2740926006 * t);
-        Y0 += 0.00000000173 * Math.cos(5.89789471349 + 28230.18722269139 * t);
-        Y0 += 0.00000000177 * Math.cos(5.31666142975 + 2572.7636073512 * t);
-        Y0 += 0.00000000225 * Math.cos(1.90849387608 + 23958.6317852334 * t);
-        Y0 += 0.00000000231 * Math.cos(5.40468485650 + 31022.7531708562 * t);
-        Y0 += 0.00000000210 * Math.cos(0.98942403448 + 6683.9763640106 * t);
-        Y0 += 0.00000000175 * Math.cos(4.13281638704 + 6708.6264094964 * t);
-        Y0 += 0.00000000174 * Math.cos(4.83665165671 + 3155.7625187296 * t);
-        Y0 += 0.00000000169 * Math.cos(3.90681440181 + 4694.0029547076 * t);
-        Y0 += 0.00000000169 * Math.cos(3.54733614920 + 6684.73071809641 * t);
-        Y0 += 0.00000000169 * Math.cos(5.57810778070 + 6684.7652254008 * t);
-        Y0 += 0.00000000191 * Math.cos(3.61332015676 + 11567.1912630782 * t);
-        Y0 += 0.00000000207 * Math.cos(2.89825036062 + 10001.48196070061 * t);
-        Y0 += 0.00000000185 * Math.cos(3.07114551783 + 3936.7908007088 * t);
-        Y0 += 0.00000000189 * Math.cos(5.77291316706 + 2783.5199055084 * t);
-        Y0 += 0.00000000197 * Math.cos(5.75026594358 + 8166.1573430938 * t);
-        Y0 += 0.00000000203 * Math.cos(3.16676623170 + 4466.4817658034 * t);
-        Y0 += 0.00000000167 * Math.cos(5.13944886262 + 158.9435177832 * t);
-        Y0 += 0.00000000165 * Math.cos(1.89458907755 + 6566.8257464862 * t);
-        Y0 += 0.00000000219 * Math.cos(4.30567311434 + 3070.482266629 * t);
-        Y0 += 0.00000000177 * Math.cos(3.00242387112 + 2978.491289969 * t);
-        Y0 += 0.00000000179 * Math.cos(2.14367659492 + 17232.7530985936 * t);
-        Y0 += 0.00000000169 * Math.cos(0.26354444683 + 11456.9849418588 * t);
-        Y0 += 0.00000000184 * Math.cos(6.11553659620 + 12942.965062924 * t);
-        Y0 += 0.00000000214 * Math.cos(5.24745003905 + 604.8497407048 * t);
-        Y0 += 0.00000000168 * Math.cos(1.24832202487 + 1111.642245102 * t);
-        Y0 += 0.00000000162 * Math.cos(0.40163918127 + 16695.94858649819 * t);
-        Y0 += 0.00000000167 * Math.cos(0.42456512338 + 24491.4257925834 * t);
-        Y0 += 0.00000000200 * Math.cos(0.11649489032 + 3610.8098970734 * t);
-        Y0 += 0.00000000188 * Math.cos(0.87790891193 + 2385.3709021002 * t);
-        Y0 += 0.00000000185 * Math.cos(0.38071563992 + 4452.2546718018 * t);
-        Y0 += 0.00000000170 * Math.cos(4.45477263786 + 28628.3362260996 * t);
-        Y0 += 0.00000000168 * Math.cos(0.43144821098 + 6165.7609823066 * t);
-        Y0 += 0.00000000201 * Math.cos(3.99164016173 + 3738.7441764558 * t);
-        Y0 += 0.00000000188 * Math.cos(1.10311001587 + 1744.493294718 * t);
-        Y0 += 0.00000000159 * Math.cos(3.67101894096 + 14481.205498902 * t);
-        Y0 += 0.00000000162 * Math.cos(5.14005106474 + 272.6729573516 * t);
-        Y0 += 0.00000000156 * Math.cos(5.01784452685 + 8436.2875031646 * t);
-        Y0 += 0.00000000170 * Math.cos(5.97804289682 + 4825.544916394 * t);
-        Y0 += 0.00000000163 * Math.cos(0.14934835314 + 3345.8116178656 * t);
-        Y0 += 0.00000000163 * Math.cos(5.97441856550 + 3335.413235534 * t);
-        Y0 += 0.00000000165 * Math.cos(0.42827361678 + 10.6366653498 * t);
-        Y0 += 0.00000000174 * Math.cos(0.55658276896 + 10787.6303445458 * t);
-        Y0 += 0.00000000175 * Math.cos(5.91625467468 + 2757.6135153214 * t);
-        Y0 += 0.00000000153 * Math.cos(0.22099888781 + 7447.017917846 * t);
-        Y0 += 0.00000000184 * Math.cos(3.91518117795 + 5220.1708014532 * t);
-        Y0 += 0.00000000214 * Math.cos(2.37690992241 + 1385.8952763362 * t);
-        Y0 += 0.00000000171 * Math.cos(0.07657131354 + 10011.2006147496 * t);
-        Y0 += 0.00000000163 * Math.cos(0.47065867853 + 13286.1836355236 * t);
-        Y0 += 0.00000000152 * Math.cos(2.34971090866 + 2011.1003364398 * t);
-        Y0 += 0.00000000154 * Math.cos(3.98395343557 + 8771.0070837986 * t);
-        Y0 += 0.00000000151 * Math.cos(4.45990869608 + 15010.8964639966 * t);
-        Y0 += 0.00000000153 * Math.cos(5.74866858603 + 9153.9036160218 * t);
-        Y0 += 0.00000000171 * Math.cos(4.58339007555 + 21393.5419698576 * t);
-        Y0 += 0.00000000169 * Math.cos(4.62232700739 + 7064.1041319706 * t);
-        Y0 += 0.00000000166 * Math.cos(5.48604111479 + 6719.3578890374 * t);
-        Y0 += 0.00000000151 * Math.cos(4.33106068620 + 10228.0228285366 * t);
-        Y0 += 0.00000000151 * Math.cos(1.25876714050 + 3525.46233467 * t);
-        Y0 += 0.00000000149 * Math.cos(0.32471999674 + 3664.1178433572 * t);
-        Y0 += 0.00000000196 * Math.cos(1.82164041147 + 3610.7425867706 * t);
-        Y0 += 0.00000000166 * Math.cos(0.46106393944 + 5466.489834079 * t);
-        Y0 += 0.00000000167 * Math.cos(1.32101864186 + 10288.4443218212 * t);
-        Y0 += 0.00000000167 * Math.cos(5.49820703705 + 5813.291189322 * t);
-        Y0 += 0.00000000147 * Math.cos(0.61292233753 + 1898.3339642874 * t);
-        Y0 += 0.00000000166 * Math.cos(1.16464294435 + 6908.7009861886 * t);
-        Y0 += 0.00000000172 * Math.cos(3.82515637777 + 19617.07636932279 * t);
-        Y0 += 0.00000000182 * Math.cos(4.81327110244 + 8535.8571590342 * t);
-        Y0 += 0.00000000154 * Math.cos(2.09016136698 + 1346.3442913098 * t);
-        Y0 += 0.00000000145 * Math.cos(5.82715197678 + 14577.1847261198 * t);
-        Y0 += 0.00000000201 * Math.cos(6.02241179322 + 3738.7786837602 * t);
-        Y0 += 0.00000000146 * Math.cos(5.33364778234 + 13369.56325380 * t);
-        Y0 += 0.00000000170 * Math.cos(4.17129374991 + 6677.6844813984 * t);
-        Y0 += 0.00000000147 * Math.cos(0.30529245684 + 9918.7445058808 * t);
-        Y0 += 0.00000000159 * Math.cos(1.38117514790 + 3346.4696289994 * t);
-        Y0 += 0.00000000159 * Math.cos(4.74259177074 + 3334.7552244002 * t);
-        Y0 += 0.00000000144 * Math.cos(1.48919516907 + 8322.5580635962 * t);
-        Y0 += 0.00000000143 * Math.cos(5.81404981785 + 13227.3846267638 * t);
-        Y0 += 0.00000000189 * Math.cos(4.57066567683 + 10042.1925994982 * t);
-        Y0 += 0.00000000153 * Math.cos(3.12132749782 + 3702.7335634306 * t);
-        Y0 += 0.00000000170 * Math.cos(6.22747964368 + 5607.6158292088 * t);
-        Y0 += 0.00000000168 * Math.cos(1.11741682536 + 10032.4739454492 * t);
-        Y0 += 0.00000000151 * Math.cos(0.91764249974 + 1859.2030553546 * t);
-        Y0 += 0.00000000163 * Math.cos(6.13290323794 + 2964.8466951296 * t);
-        Y0 += 0.00000000149 * Math.cos(5.64340451890 + 12406.1605508286 * t);
-        Y0 += 0.00000000168 * Math.cos(5.38234820743 + 27490.6924780448 * t);
-        Y0 += 0.00000000179 * Math.cos(5.09214529715 + 2714.9422343874 * t);
-        Y0 += 0.00000000179 * Math.cos(1.03162162149 + 3966.2826190122 * t);
-        Y0 += 0.00000000155 * Math.cos(4.37389063339 + 4686.95671800959 * t);
-        Y0 += 0.00000000140 * Math.cos(3.29233960935 + 18461.71521191579 * t);
-        Y0 += 0.00000000183 * Math.cos(5.08915245987 + 6791.431174619 * t);
-        Y0 += 0.00000000150 * Math.cos(3.63195159063 + 2922.1081038928 * t);
-        Y0 += 0.00000000146 * Math.cos(0.34180400613 + 2714.9872905026 * t);
-        Y0 += 0.00000000165 * Math.cos(5.85179950459 + 7345.9808985296 * t);
-        Y0 += 0.00000000191 * Math.cos(0.62441184949 + 3202.0242283154 * t);
-        Y0 += 0.00000000191 * Math.cos(5.49935506915 + 3479.2006250842 * t);
-        Y0 += 0.00000000160 * Math.cos(3.89847950064 + 3287.304480416 * t);
-        Y0 += 0.00000000160 * Math.cos(2.22528741800 + 3393.9203729836 * t);
-        Y0 += 0.00000000143 * Math.cos(4.66819102175 + 5298.337506553 * t);
-        Y0 += 0.00000000193 * Math.cos(4.93382263995 + 3031.334104044 * t);
-        Y0 += 0.00000000137 * Math.cos(1.10831878106 + 1538.240435978 * t);
-        Y0 += 0.00000000189 * Math.cos(0.82918253553 + 27832.0382192832 * t);
-        Y0 += 0.00000000161 * Math.cos(0.41487404103 + 3897.7049478912 * t);
-        Y0 += 0.00000000136 * Math.cos(4.94904122324 + 4665.5537672398 * t);
-        Y0 += 0.00000000146 * Math.cos(4.58946121962 + 29424.634232916 * t);
-        Y0 += 0.00000000144 * Math.cos(5.67407580544 + 3945.4621674046 * t);
-        Y0 += 0.00000000155 * Math.cos(4.11300986064 + 25135.8265183146 * t);
-        Y0 += 0.00000000170 * Math.cos(6.20206538140 + 6677.71898870279 * t);
-        Y0 += 0.00000000141 * Math.cos(2.26693908625 + 6279.5527316424 * t);
-        Y0 += 0.00000000136 * Math.cos(5.68923166061 + 4288.8077146014 * t);
-        Y0 += 0.00000000167 * Math.cos(3.71126958427 + 8336.7851575978 * t);
-        Y0 += 0.00000000151 * Math.cos(4.63496418774 + 8962.522660213 * t);
-        Y0 += 0.00000000151 * Math.cos(4.79490046168 + 2281.2978068134 * t);
-        Y0 += 0.00000000159 * Math.cos(3.23471035128 + 8958.5231966471 * t);
-        Y0 += 0.00000000151 * Math.cos(5.20339684853 + 2281.1631862078 * t);
-        Y0 += 0.00000000137 * Math.cos(1.47758341153 + 6703.075682726 * t);
-        Y0 += 0.00000000151 * Math.cos(5.04346057458 + 8962.3880396074 * t);
-        Y0 += 0.00000000133 * Math.cos(5.72069663156 + 4295.8539512994 * t);
-        Y0 += 0.00000000159 * Math.cos(0.16407854844 + 8966.3875031733 * t);
-        Y0 += 0.00000000137 * Math.cos(0.73335617283 + 12729.665967486 * t);
-        Y0 += 0.00000000132 * Math.cos(4.69707830142 + 12171.5258149236 * t);
-        Y0 += 0.00000000136 * Math.cos(4.02213961750 + 8695.8483081884 * t);
-        Y0 += 0.00000000132 * Math.cos(4.38025942738 + 10824.2012025456 * t);
-        Y0 += 0.00000000130 * Math.cos(2.78423915943 + 529.6737114424 * t);
-        Y0 += 0.00000000132 * Math.cos(5.86985041939 + 2472.6787626222 * t);
-        Y0 += 0.00000000133 * Math.cos(4.50452650479 + 6624.326478464 * t);
-        Y0 += 0.00000000164 * Math.cos(4.60687101666 + 1155.361157407 * t);
-        Y0 += 0.00000000148 * Math.cos(2.40612364993 + 7050.92466934 * t);
-        Y0 += 0.00000000130 * Math.cos(3.08795138602 + 7593.7950970652 * t);
-        Y0 += 0.00000000160 * Math.cos(3.35966837618 + 10081.211142013 * t);
-        Y0 += 0.00000000130 * Math.cos(4.81501079092 + 529.7082187468 * t);
-        Y0 += 0.00000000143 * Math.cos(3.29046013826 + 10014.7910434014 * t);
-        Y0 += 0.00000000158 * Math.cos(3.17182640229 + 6092.1600263914 * t);
-        Y0 += 0.00000000133 * Math.cos(6.23099356596 + 21150.8133658836 * t);
-        Y0 += 0.00000000148 * Math.cos(2.44769901406 + 1505.28780909299 * t);
-        Y0 += 0.00000000137 * Math.cos(1.98411709382 + 34554.8138636676 * t);
-        Y0 += 0.00000000134 * Math.cos(4.61132825315 + 2954.1927761276 * t);
-        Y0 += 0.00000000129 * Math.cos(3.37544159152 + 11527.1250891924 * t);
-        Y0 += 0.00000000145 * Math.cos(3.33531716268 + 8373.390522902 * t);
-        Y0 += 0.00000000172 * Math.cos(1.36733410756 + 1086.783486286 * t);
-        Y0 += 0.00000000141 * Math.cos(1.22591570561 + 3041.4860324306 * t);
-        Y0 += 0.00000000137 * Math.cos(4.29535110956 + 6137.3067943034 * t);
-        Y0 += 0.00000000166 * Math.cos(3.85823242782 + 107.6635239386 * t);
-        Y0 += 0.00000000127 * Math.cos(3.67470240475 + 10294.510237451 * t);
-        Y0 += 0.00000000137 * Math.cos(3.89019601730 + 14580.7751547716 * t);
-        Y0 += 0.00000000130 * Math.cos(0.80714408434 + 4108.4612460484 * t);
-        Y0 += 0.00000000141 * Math.cos(2.61333516815 + 5088.2198048527 * t);
-        Y0 += 0.00000000165 * Math.cos(3.99987517019 + 8006.1661939396 * t);
-        Y0 += 0.00000000144 * Math.cos(5.56354727307 + 1802.3719907218 * t);
-        Y0 += 0.00000000124 * Math.cos(4.81729498841 + 10177.1903692308 * t);
-        Y0 += 0.00000000126 * Math.cos(0.28235988406 + 18447.48811791419 * t);
-        Y0 += 0.00000000141 * Math.cos(6.27649569910 + 3716.37815827 * t);
-        Y0 += 0.00000000124 * Math.cos(1.96413242139 + 6687.9085172737 * t);
-        Y0 += 0.00000000121 * Math.cos(4.72300940105 + 3090.7079659576 * t);
-        Y0 += 0.00000000121 * Math.cos(1.40075751759 + 3590.516887442 * t);
-        Y0 += 0.00000000141 * Math.cos(5.98008002738 + 5096.0841113789 * t);
-        Y0 += 0.00000000122 * Math.cos(5.79431680023 + 2257.3520587628 * t);
-        Y0 += 0.00000000123 * Math.cos(2.86133242277 + 6710.6543619356 * t);
-        Y0 += 0.00000000166 * Math.cos(3.56556372747 + 6553.2060100622 * t);
-        Y0 += 0.00000000123 * Math.cos(2.97984792859 + 14591.4118201214 * t);
-        Y0 += 0.00000000128 * Math.cos(5.37813947668 + 3600.1732317236 * t);
-        Y0 += 0.00000000128 * Math.cos(0.74562744196 + 3081.051621676 * t);
-        Y0 += 0.00000000122 * Math.cos(4.85419345520 + 1236.075660323 * t);
-        Y0 += 0.00000000138 * Math.cos(4.02406657968 + 7167.1969061892 * t);
-        Y0 += 0.00000000127 * Math.cos(2.49182650403 + 3759.1167495068 * t);
-        Y0 += 0.00000000143 * Math.cos(5.81188741430 + 2228.9701815978 * t);
-        Y0 += 0.00000000152 * Math.cos(3.52185876402 + 3340.6469340042 * t);
-        Y0 += 0.00000000152 * Math.cos(5.74350080821 + 3340.5779193954 * t);
-        Y0 += 0.00000000140 * Math.cos(6.07921710613 + 2233.473621015 * t);
-        Y0 += 0.00000000118 * Math.cos(2.67439157216 + 7534.4212351516 * t);
-        Y0 += 0.00000000137 * Math.cos(3.22022096656 + 14587.8213914696 * t);
-        Y0 += 0.00000000124 * Math.cos(2.27970099563 + 9124.9219860424 * t);
-        Y0 += 0.00000000161 * Math.cos(3.75731973309 + 4576.6880870228 * t);
-        Y0 += 0.00000000116 * Math.cos(5.02262371793 + 10338.229149756 * t);
-        Y0 += 0.00000000126 * Math.cos(4.15150267519 + 4083.6024872324 * t);
-        Y0 += 0.00000000133 * Math.cos(0.20063412038 + 3923.6113380782 * t);
-        Y0 += 0.00000000139 * Math.cos(1.28995256706 + 4782.87363546 * t);
-        Y0 += 0.00000000122 * Math.cos(6.02851032493 + 6836.577942531 * t);
-        Y0 += 0.00000000121 * Math.cos(2.88286714942 + 4179.5817144502 * t);
-        Y0 += 0.00000000162 * Math.cos(5.96659239053 + 8852.2490286908 * t);
-        Y0 += 0.00000000153 * Math.cos(3.50724335550 + 49225.5801891408 * t);
-        Y0 += 0.00000000137 * Math.cos(1.59056057693 + 8219.4652893776 * t);
-        Y0 += 0.00000000134 * Math.cos(5.30662276999 + 6659.3740240732 * t);
-        Y0 += 0.00000000133 * Math.cos(0.75283219591 + 6147.6017350419 * t);
-        Y0 += 0.00000000113 * Math.cos(5.67984864041 + 4782.8908891122 * t);
-        Y0 += 0.00000000119 * Math.cos(0.88310894308 + 1471.7530270636 * t);
-        Y0 += 0.00000000112 * Math.cos(1.64583106043 + 4106.4054911462 * t);
-        Y0 += 0.00000000116 * Math.cos(1.51226089331 + 3727.032077272 * t);
-        Y0 += 0.00000000115 * Math.cos(2.23873164969 + 27433.88921587499 * t);
-        Y0 += 0.00000000111 * Math.cos(3.49092955755 + 6837.625573902 * t);
-        Y0 += 0.00000000122 * Math.cos(4.66180533919 + 4953.5637597314 * t);
-        Y0 += 0.00000000110 * Math.cos(4.24429487321 + 2980.5016447382 * t);
-        Y0 += 0.00000000130 * Math.cos(5.53821276618 + 14267.906403464 * t);
-        Y0 += 0.00000000114 * Math.cos(5.78198829675 + 3966.237562897 * t);
-        Y0 += 0.00000000129 * Math.cos(3.09576574234 + 3101.4069410748 * t);
-        Y0 += 0.00000000129 * Math.cos(3.02800117630 + 3579.8179123248 * t);
-        Y0 += 0.00000000133 * Math.cos(2.29548900012 + 6738.1232283352 * t);
-        Y0 += 0.00000000109 * Math.cos(3.91214172233 + 6953.8978107512 * t);
-        Y0 += 0.00000000114 * Math.cos(4.23798377032 + 13517.8027959306 * t);
-        Y0 += 0.00000000146 * Math.cos(1.72637612424 + 3282.733730696 * t);
-        Y0 += 0.00000000146 * Math.cos(4.39739079440 + 3398.4911227036 * t);
-        Y0 += 0.00000000142 * Math.cos(2.28691321864 + 1879.5583747534 * t);
-        Y0 += 0.00000000115 * Math.cos(3.13902228769 + 2501.6431389494 * t);
-        Y0 += 0.00000000130 * Math.cos(3.94430245099 + 6155.4660415681 * t);
-        Y0 += 0.00000000123 * Math.cos(4.36600516245 + 2185.2512692928 * t);
-        Y0 += 0.00000000112 * Math.cos(1.26819666087 + 27.4015560968 * t);
-        Y0 += 0.00000000116 * Math.cos(2.98356645564 + 8976.6824439118 * t);
-        Y0 += 0.00000000105 * Math.cos(3.84139235085 + 17821.81792560179 * t);
-        Y0 += 0.00000000144 * Math.cos(4.28618515178 + 8446.9914788172 * t);
-        Y0 += 0.00000000103 * Math.cos(5.03658750394 + 1059.3146198864 * t);
-        Y0 += 0.00000000107 * Math.cos(2.17771924213 + 7075.8507384588 * t);
-        Y0 += 0.00000000105 * Math.cos(3.92288350713 + 6961.011357752 * t);
-        Y0 += 0.00000000129 * Math.cos(2.19437663723 + 3719.98584057399 * t);
-        Y0 += 0.00000000129 * Math.cos(3.92939028141 + 2961.2390128256 * t);
-        Y0 += 0.00000000103 * Math.cos(4.84437874080 + 550.0462844934 * t);
-        Y0 += 0.00000000140 * Math.cos(4.00106611918 + 14867.73751589219 * t);
-        Y0 += 0.00000000121 * Math.cos(1.12112792863 + 27676.617819849 * t);
-        Y0 += 0.00000000136 * Math.cos(5.86999649219 + 765.7930644464 * t);
-        Y0 += 0.00000000115 * Math.cos(4.67040651182 + 2631.6226244232 * t);
-        Y0 += 0.00000000104 * Math.cos(4.68807983986 + 31449.8270427518 * t);
-        Y0 += 0.00000000127 * Math.cos(4.38747549084 + 2655.501062171 * t);
-        Y0 += 0.00000000101 * Math.cos(3.19137230221 + 21791.69097326579 * t);
-        Y0 += 0.00000000103 * Math.cos(6.01933155949 + 18617.0683010472 * t);
-        Y0 += 0.00000000138 * Math.cos(3.24007735232 + 3480.3105662226 * t);
-        Y0 += 0.00000000138 * Math.cos(2.88368956632 + 3200.914287177 * t);
-        Y0 += 0.00000000099 * Math.cos(6.15309320274 + 4555.4147563232 * t);
-        Y0 += 0.00000000106 * Math.cos(0.15103316185 + 32367.0976562076 * t);
-        Y0 += 0.00000000100 * Math.cos(0.79624016231 + 2651.977943822 * t);
-        Y0 += 0.00000000100 * Math.cos(5.44381740844 + 3340.6969906548 * t);
-        Y0 += 0.00000000100 * Math.cos(3.82154216379 + 3340.52786274481 * t);
-        Y0 += 0.00000000108 * Math.cos(4.12360777653 + 249.9044607422 * t);
-        Y0 += 0.00000000099 * Math.cos(5.78300785457 + 5312.5646005546 * t);
-        Y0 += 0.00000000115 * Math.cos(4.25203314320 + 21000.9158907568 * t);
-        Y0 += 0.00000000097 * Math.cos(1.57959120195 + 31214.2014369678 * t);
-        Y0 += 0.00000000103 * Math.cos(5.89679813880 + 2125.8100970764 * t);
-        Y0 += 0.00000000095 * Math.cos(3.12474282092 + 3370.49447031 * t);
-        Y0 += 0.00000000095 * Math.cos(2.99902409772 + 3310.7303830896 * t);
-        Y0 += 0.00000000100 * Math.cos(5.85231379528 + 3340.5623700492 * t);
-        Y0 += 0.00000000100 * Math.cos(3.41304577695 + 3340.6624833504 * t);
-        Y0 += 0.00000000130 * Math.cos(1.10368790224 + 26084.0218062162 * t);
-        Y0 += 0.00000000102 * Math.cos(2.99188532210 + 34115.1140692746 * t);
-        Y0 += 0.00000000098 * Math.cos(0.97971049082 + 1784.0442797444 * t);
-        Y0 += 0.00000000101 * Math.cos(0.76366487468 + 987.746272928 * t);
-        Y0 += 0.00000000129 * Math.cos(2.93910550678 + 4591.4426230006 * t);
-        Y0 += 0.00000000099 * Math.cos(0.66802090434 + 1755.4716846791 * t);
-        Y0 += 0.00000000124 * Math.cos(0.43401574548 + 3532.0779464636 * t);
-        Y0 += 0.00000000098 * Math.cos(5.40084312405 + 24768.6021893522 * t);
-        Y0 += 0.00000000104 * Math.cos(0.45494263259 + 25827.9841195414 * t);
-        Y0 += 0.00000000125 * Math.cos(1.84276822733 + 30227.9784764304 * t);
-        Y0 += 0.00000000102 * Math.cos(3.13389184379 + 2214.7430875962 * t);
-        Y0 += 0.00000000092 * Math.cos(1.71227607177 + 1382.8873468466 * t);
-        Y0 += 0.00000000095 * Math.cos(3.71389775515 + 16975.7350908506 * t);
-        Y0 += 0.00000000118 * Math.cos(5.39174563560 + 3343.5813721164 * t);
-        Y0 += 0.00000000118 * Math.cos(0.73202128304 + 3337.6434812832 * t);
-        Y0 += 0.00000000095 * Math.cos(0.21486058971 + 11506.7697697936 * t);
-        Y0 += 0.00000000105 * Math.cos(3.93832329439 + 42388.934936307 * t);
-        Y0 += 0.00000000092 * Math.cos(1.91807045515 + 155.3530891314 * t);
-        Y0 += 0.00000000118 * Math.cos(5.04524690579 + 2523.9591004846 * t);
-        Y0 += 0.00000000124 * Math.cos(4.68642942116 + 3532.0434391592 * t);
-        Y0 += 0.00000000092 * Math.cos(1.46728426349 + 31172.650645983 * t);
-        Y0 += 0.00000000102 * Math.cos(3.49211510967 + 27946.7479799198 * t);
-        Y0 += 0.00000000103 * Math.cos(2.64209634100 + 20235.1228263104 * t);
-        Y0 += 0.00000000120 * Math.cos(4.14012588910 + 4845.9002357928 * t);
-        Y0 += 0.00000000091 * Math.cos(5.12604154487 + 14469.588512484 * t);
-        Y0 += 0.00000000118 * Math.cos(4.07684778770 + 3396.995612776 * t);
-        Y0 += 0.00000000118 * Math.cos(2.04691913094 + 3284.2292406236 * t);
-        Y0 += 0.00000000112 * Math.cos(1.33743249046 + 20995.3929664494 * t);
-        Y0 += 0.00000000113 * Math.cos(3.43964396126 + 948.1952879016 * t);
-        Y0 += 0.00000000104 * Math.cos(4.79113313233 + 3149.1814142404 * t);
-        Y0 += 0.00000000121 * Math.cos(2.63871762078 + 30774.5016425748 * t);
-        Y0 += 0.00000000094 * Math.cos(3.66066776842 + 10610.9021071076 * t);
-        Y0 += 0.00000000112 * Math.cos(3.12304973052 + 24606.13555322 * t);
-        Y0 += 0.00000000091 * Math.cos(2.73155116325 + 78263.70942472259 * t);
-        Y0 += 0.00000000094 * Math.cos(2.34382286871 + 3346.7456526324 * t);
-        Y0 += 0.00000000094 * Math.cos(3.77994404993 + 3334.4792007672 * t);
-        Y0 += 0.00000000090 * Math.cos(5.67779575724 + 15746.7729775284 * t);
-        Y0 += 0.00000000091 * Math.cos(1.14441655193 + 50818.1762027736 * t);
-        Y0 += 0.00000000091 * Math.cos(1.77732756353 + 24093.2767891752 * t);
-        Y0 += 0.00000000092 * Math.cos(1.72406156484 + 12892.1326036182 * t);
-        Y0 += 0.00000000092 * Math.cos(4.79118378192 + 1957.7250798532 * t);
-        Y0 += 0.00000000104 * Math.cos(3.56887817242 + 440.8252848776 * t);
-        Y0 += 0.00000000111 * Math.cos(2.46277729789 + 27417.0570148252 * t);
-        Y0 += 0.00000000098 * Math.cos(0.78906971914 + 24532.9765835682 * t);
-        Y0 += 0.00000000089 * Math.cos(0.64518470975 + 3368.08129309939 * t);
-        Y0 += 0.00000000089 * Math.cos(5.47858220889 + 3313.1435603002 * t);
-        Y0 += 0.00000000103 * Math.cos(4.62809111709 + 1059.449240492 * t);
-        Y0 += 0.00000000092 * Math.cos(0.19061509302 + 32509.208972941 * t);
-        Y0 += 0.00000000086 * Math.cos(5.37692725135 + 11375.2278081072 * t);
-        Y0 += 0.00000000095 * Math.cos(0.84451353118 + 529.6236547918 * t);
-        Y0 += 0.00000000120 * Math.cos(6.10556233132 + 3202.0949298291 * t);
-        Y0 += 0.00000000120 * Math.cos(0.01820458732 + 3479.1299235705 * t);
-        Y0 += 0.00000000086 * Math.cos(5.35131508131 + 3762.6398678558 * t);
-        Y0 += 0.00000000086 * Math.cos(0.77245183733 + 2918.5849855438 * t);
-        Y0 += 0.00000000090 * Math.cos(1.59914115894 + 23546.7536230308 * t);
-        Y0 += 0.00000000099 * Math.cos(4.06854104969 + 3222.7996238078 * t);
-        Y0 += 0.00000000099 * Math.cos(2.05522586895 + 3458.4252295918 * t);
-        Y0 += 0.00000000089 * Math.cos(1.74434664412 + 22531.09060514659 * t);
-        Y0 += 0.00000000107 * Math.cos(2.43223672203 + 3369.5940566792 * t);
-        Y0 += 0.00000000107 * Math.cos(3.69153019661 + 3311.6307967204 * t);
-        Y0 += 0.00000000095 * Math.cos(1.39752616185 + 11560.0777160774 * t);
-        Y0 += 0.00000000095 * Math.cos(2.86255032254 + 8186.5126624926 * t);
-        Y0 += 0.00000000091 * Math.cos(4.99433536381 + 11876.469585734 * t);
-        Y0 += 0.00000000090 * Math.cos(3.38202540962 + 4670.1245169598 * t);
-        Y0 += 0.00000000106 * Math.cos(0.31966498575 + 44535.1003527822 * t);
-        Y0 += 0.00000000094 * Math.cos(1.95436076350 + 796.2807531642 * t);
-        Y0 += 0.00000000085 * Math.cos(5.95986051189 + 809.477469447 * t);
-        Y0 += 0.00000000089 * Math.cos(1.64580481078 + 6534.413166876 * t);
-        Y0 += 0.00000000084 * Math.cos(3.00387278181 + 4777.7880408984 * t);
-        Y0 += 0.00000000104 * Math.cos(2.76036150084 + 3149.146906936 * t);
-        Y0 += 0.00000000116 * Math.cos(5.49068681139 + 14694.50459434 * t);
-        Y0 += 0.00000000087 * Math.cos(6.08931791750 + 12410.7313005486 * t);
-        Y0 += 0.00000000089 * Math.cos(6.17341366104 + 3332.9386347244 * t);
-        Y0 += 0.00000000089 * Math.cos(6.23353856478 + 3348.2862186752 * t);
-        Y0 += 0.00000000087 * Math.cos(0.07344243508 + 13105.4316990562 * t);
-        Y0 += 0.00000000083 * Math.cos(3.79093953875 + 1107.1388056848 * t);
-        Y0 += 0.00000000115 * Math.cos(3.71714517813 + 1971.9521738548 * t);
-        Y0 += 0.00000000084 * Math.cos(0.92785811250 + 2942.5307335944 * t);
-        Y0 += 0.00000000082 * Math.cos(5.47710092100 + 3330.0430716528 * t);
-        Y0 += 0.00000000082 * Math.cos(0.64666599764 + 3351.1817817468 * t);
-        Y0 += 0.00000000112 * Math.cos(1.67391351043 + 14900.6901427772 * t);
-        Y0 += 0.00000000082 * Math.cos(0.58327444061 + 22317.79150970859 * t);
-        Y0 += 0.00000000084 * Math.cos(2.91538822338 + 3083.5944189568 * t);
-        Y0 += 0.00000000084 * Math.cos(3.20837869526 + 3597.6304344428 * t);
-        Y0 += 0.00000000095 * Math.cos(0.43601714434 + 529.7582753974 * t);
-        Y0 += 0.00000000085 * Math.cos(4.86833452232 + 1055.8588118402 * t);
-        Y0 += 0.00000000114 * Math.cos(1.28659258054 + 3063.5774329584 * t);
-        Y0 += 0.00000000114 * Math.cos(4.83717433810 + 3617.6474204412 * t);
-        Y0 += 0.00000000085 * Math.cos(2.68073374708 + 54789.936689978 * t);
-        Y0 += 0.00000000086 * Math.cos(3.41488083723 + 23009.94911093539 * t);
-        Y0 += 0.00000000112 * Math.cos(3.74867220051 + 5295.3295770634 * t);
-        Y0 += 0.00000000083 * Math.cos(2.23224723099 + 20103.0484221124 * t);
-        Y0 += 0.00000000081 * Math.cos(2.93799035242 + 1552.4675299796 * t);
-        Y0 += 0.00000000081 * Math.cos(5.44968688605 + 3190.714951573 * t);
-        Y0 += 0.00000000081 * Math.cos(0.67408003259 + 3490.5099018266 * t);
-        Y0 += 0.00000000094 * Math.cos(3.98513239500 + 796.3152604686 * t);
-        Y0 += 0.00000000096 * Math.cos(1.55756600347 + 4049.6022289764 * t);
-        Y0 += 0.00000000099 * Math.cos(5.83523223269 + 309.2783226558 * t);
-        Y0 += 0.00000000097 * Math.cos(5.98857826070 + 45494.58142974879 * t);
-        Y0 += 0.00000000106 * Math.cos(2.45927282558 + 10191.4174632324 * t);
-        Y0 += 0.00000000086 * Math.cos(4.76571809299 + 2544.2971662312 * t);
-        Y0 += 0.00000000089 * Math.cos(4.15046971529 + 6311.5250374592 * t);
-        Y0 += 0.00000000099 * Math.cos(1.41761453417 + 19683.5637782372 * t);
-        Y0 += 0.00000000085 * Math.cos(4.83661771107 + 14715.840234807 * t);
-        Y0 += 0.00000000079 * Math.cos(5.53486573340 + 31979.5180078464 * t);
-        Y0 += 0.00000000102 * Math.cos(1.61863937790 + 3524.48201360179 * t);
-        Y0 += 0.00000000102 * Math.cos(4.50512754074 + 3156.7428397978 * t);
-        Y0 += 0.00000000084 * Math.cos(1.33635449934 + 2942.3961129888 * t);
-        Y0 += 0.00000000084 * Math.cos(2.73273226011 + 4801.6664786462 * t);
-        Y0 += 0.00000000079 * Math.cos(0.32952937845 + 4423.8727946368 * t);
-        Y0 += 0.00000000108 * Math.cos(5.38483133748 + 52168.0436124324 * t);
-        Y0 += 0.00000000081 * Math.cos(4.34146156368 + 3347.7432273528 * t);
-        Y0 += 0.00000000081 * Math.cos(1.78230535496 + 3333.4816260468 * t);
-        Y0 += 0.00000000088 * Math.cos(3.92710525226 + 7277.4032274086 * t);
-        Y0 += 0.00000000085 * Math.cos(4.58541459533 + 2810.9387152574 * t);
-        Y0 += 0.00000000096 * Math.cos(6.24098010472 + 3357.44462774959 * t);
-        Y0 += 0.00000000096 * Math.cos(6.16597212110 + 3323.78022565 * t);
-        Y0 += 0.00000000106 * Math.cos(4.55137556149 + 8692.3251898394 * t);
-        Y0 += 0.00000000081 * Math.cos(1.10617868654 + 1353.3905280078 * t);
-        Y0 += 0.00000000082 * Math.cos(4.35697165540 + 12988.111830836 * t);
-        Y0 += 0.00000000099 * Math.cos(2.09862978450 + 3305.004636116 * t);
-        Y0 += 0.00000000099 * Math.cos(4.02513713414 + 3376.2202172836 * t);
-        Y0 += 0.00000000086 * Math.cos(3.61229605629 + 3385.26625994 * t);
-        Y0 += 0.00000000086 * Math.cos(2.51147086235 + 3295.9585934596 * t);
-        Y0 += 0.00000000085 * Math.cos(1.07447319780 + 3193.8179938284 * t);
-        Y0 += 0.00000000085 * Math.cos(5.04929372084 + 3487.4068595712 * t);
-        Y0 += 0.00000000090 * Math.cos(4.06898880743 + 18028.00347403899 * t);
-        Y0 += 0.00000000088 * Math.cos(0.27514934792 + 2751.01515718 * t);
-        Y0 += 0.00000000097 * Math.cos(1.73632170713 + 4025.7237912286 * t);
-        Y0 += 0.00000000093 * Math.cos(5.35390246552 + 6474.524116103 * t);
-        Y0 += 0.00000000079 * Math.cos(1.18833525802 + 50973.59660220779 * t);
-        Y0 += 0.00000000099 * Math.cos(2.66906203023 + 1481.4093713452 * t);
-        Y0 += 0.00000000077 * Math.cos(0.70689947434 + 430.5303441391 * t);
-        Y0 += 0.00000000079 * Math.cos(3.73801262005 + 1593.0050485469 * t);
-        Y0 += 0.00000000078 * Math.cos(1.40210015770 + 26887.3660497306 * t);
-        Y0 += 0.00000000078 * Math.cos(4.43940167712 + 8830.9133882238 * t);
-        Y0 += 0.00000000077 * Math.cos(0.22206990977 + 45088.6697556246 * t);
-        Y0 += 0.00000000098 * Math.cos(3.09177354933 + 3930.2096962196 * t);
-        Y0 += 0.00000000076 * Math.cos(5.38805653575 + 4029.2469095776 * t);
-        Y0 += 0.00000000103 * Math.cos(3.41208170979 + 6777.2040806174 * t);
-        Y0 += 0.00000000080 * Math.cos(3.38163988195 + 1954.7171503636 * t);
-        Y0 += 0.00000000076 * Math.cos(5.18112770840 + 9090.4741932476 * t);
-        Y0 += 0.00000000086 * Math.cos(0.51330441730 + 2544.3316735356 * t);
-        Y0 += 0.00000000075 * Math.cos(0.45110684632 + 14797.5973685586 * t);
-        Y0 += 0.00000000078 * Math.cos(0.59621100214 + 1324.94134054 * t);
-        Y0 += 0.00000000076 * Math.cos(4.03831555772 + 30376.3526391666 * t);
-        Y0 += 0.00000000081 * Math.cos(5.17054650880 + 3404.3483250032 * t);
-        Y0 += 0.00000000081 * Math.cos(0.95322040984 + 3276.8765283964 * t);
-        Y0 += 0.00000000084 * Math.cos(5.75075232210 + 45331.3983595986 * t);
-        Y0 += 0.00000000076 * Math.cos(0.82488746308 + 26357.675084636 * t);
-        Y0 += 0.00000000085 * Math.cos(2.55464296384 + 2810.904207953 * t);
-        Y0 += 0.00000000089 * Math.cos(3.18335652264 + 1747.6073781529 * t);
-        Y0 += 0.00000000076 * Math.cos(4.43291941041 + 1125.8693391036 * t);
-        Y0 += 0.00000000094 * Math.cos(4.04056491567 + 9175.7544453482 * t);
-        Y0 += 0.00000000073 * Math.cos(4.21658059964 + 7476.475228845 * t);
-        Y0 += 0.00000000087 * Math.cos(4.26062486606 + 15117.5123565642 * t);
-        Y0 += 0.00000000095 * Math.cos(0.27332852104 + 41592.6369294906 * t);
-        Y0 += 0.00000000083 * Math.cos(5.84013662886 + 4447.7512323846 * t);
-        Y0 += 0.00000000081 * Math.cos(0.96354720612 + 2917.5373541728 * t);
-        Y0 += 0.00000000081 * Math.cos(1.65905428280 + 2910.4911174748 * t);
-        Y0 += 0.00000000072 * Math.cos(3.99322730607 + 9384.8410080752 * t);
-        Y0 += 0.00000000072 * Math.cos(4.77598503185 + 4822.021798045 * t);
-        Y0 += 0.00000000078 * Math.cos(2.91014980690 + 12715.4388734844 * t);
-        Y0 += 0.00000000073 * Math.cos(3.00898976422 + 6809.243696737 * t);
-        Y0 += 0.00000000076 * Math.cos(0.92136957038 + 1008.5494708834 * t);
-        Y0 += 0.00000000076 * Math.cos(0.09408730171 + 81604.32185142238 * t);
-        Y0 += 0.00000000078 * Math.cos(0.78353401757 + 7768.0083396856 * t);
-        Y0 += 0.00000000097 * Math.cos(1.67274419323 + 13002.3389248376 * t);
-        Y0 += 0.00000000080 * Math.cos(2.13855823313 + 6151.6011986078 * t);
-        Y0 += 0.00000000072 * Math.cos(4.24635867271 + 927.8399685028 * t);
-        Y0 += 0.00000000074 * Math.cos(4.00818928999 + 6603.4743094157 * t);
-        Y0 += 0.00000000073 * Math.cos(3.74531354996 + 13635.1226641508 * t);
-        Y0 += 0.00000000071 * Math.cos(4.21907550981 + 5621.9102335132 * t);
-        Y0 += 0.00000000071 * Math.cos(4.30769103159 + 23539.64007603 * t);
-        Y0 += 0.00000000081 * Math.cos(1.38154115877 + 19573.3574570178 * t);
-        Y0 += 0.00000000083 * Math.cos(2.17147557718 + 32522.5180556418 * t);
-        Y0 += 0.00000000071 * Math.cos(4.38622964414 + 12140.6011404778 * t);
-        Y0 += 0.00000000092 * Math.cos(6.00108691734 + 51371.74560561599 * t);
-        Y0 += 0.00000000087 * Math.cos(0.00040074144 + 24336.0053931492 * t);
-        Y0 += 0.00000000074 * Math.cos(3.37129667806 + 14061.7208550268 * t);
-        Y0 += 0.00000000072 * Math.cos(3.85658396360 + 3.5403720012 * t);
-        Y0 += 0.00000000070 * Math.cos(3.54219776569 + 5784.3095593426 * t);
-        Y0 += 0.00000000087 * Math.cos(3.04532728173 + 19403.7772738848 * t);
-        Y0 += 0.00000000078 * Math.cos(1.21083630287 + 36105.8590863156 * t);
-        Y0 += 0.00000000073 * Math.cos(0.64702279583 + 6493.29970563701 * t);
-        Y0 += 0.00000000074 * Math.cos(5.24335831663 + 5209.471826336 * t);
-        Y0 += 0.00000000074 * Math.cos(3.42555900934 + 1214.8023296234 * t);
-        Y0 += 0.00000000069 * Math.cos(0.17833800470 + 51769.8946090242 * t);
-        Y0 += 0.00000000095 * Math.cos(2.31307632185 + 2104.5367663768 * t);
-        Y0 += 0.00000000076 * Math.cos(1.79020883454 + 3412.6681600546 * t);
-        Y0 += 0.00000000076 * Math.cos(4.33355808410 + 3268.556693345 * t);
-        Y0 += 0.00000000069 * Math.cos(2.65375644259 + 21272.63667352099 * t);
-        Y0 += 0.00000000071 * Math.cos(0.24644595466 + 58857.03113654799 * t);
-        Y0 += 0.00000000080 * Math.cos(2.54705461998 + 6151.4665780022 * t);
-        Y0 += 0.00000000069 * Math.cos(3.00854983951 + 942.062061969 * t);
-        Y0 += 0.00000000089 * Math.cos(3.32856757738 + 30639.856638633 * t);
-        Y0 += 0.00000000093 * Math.cos(5.84360510867 + 17810.2009391838 * t);
-        Y0 += 0.00000000072 * Math.cos(1.82581233210 + 3.5058646968 * t);
-        Y0 += 0.00000000068 * Math.cos(5.53841894464 + 8550.0842530358 * t);
-        Y0 += 0.00000000078 * Math.cos(3.75570725284 + 422.6660376129 * t);
-        Y0 += 0.00000000070 * Math.cos(5.89803541335 + 2332.0629558164 * t);
-        Y0 += 0.00000000071 * Math.cos(0.58121523893 + 3371.6044114484 * t);
-        Y0 += 0.00000000071 * Math.cos(5.54255167971 + 3309.6204419512 * t);
-        Y0 += 0.00000000090 * Math.cos(5.52634430161 + 68241.87214462319 * t);
-        Y0 += 0.00000000080 * Math.cos(3.39848386880 + 9705.4454104428 * t);
-        Y0 += 0.00000000072 * Math.cos(4.79564183453 + 7899.550301372 * t);
-        Y0 += 0.00000000068 * Math.cos(0.73828510395 + 8948.2282559086 * t);
-        Y0 += 0.00000000067 * Math.cos(3.43458904912 + 398.131749756 * t);
-        Y0 += 0.00000000070 * Math.cos(0.92757117435 + 7843.6995578074 * t);
-        Y0 += 0.00000000081 * Math.cos(2.34208554485 + 94329.77528619739 * t);
-        Y0 += 0.00000000077 * Math.cos(3.41420973216 + 10507.809332889 * t);
-        Y0 += 0.00000000067 * Math.cos(4.00518542359 + 6112.4029793722 * t);
-        Y0 += 0.00000000075 * Math.cos(0.08956980412 + 1585.1407420207 * t);
-        Y0 += 0.00000000083 * Math.cos(4.29774312697 + 11776.8999298644 * t);
-        Y0 += 0.00000000067 * Math.cos(5.46536068061 + 398.1662570604 * t);
-        Y0 += 0.00000000069 * Math.cos(1.03119962025 + 23553.8671700316 * t);
-        Y0 += 0.00000000072 * Math.cos(0.53306813481 + 3414.2478899194 * t);
-        Y0 += 0.00000000072 * Math.cos(5.59069878383 + 3266.9769634802 * t);
-        Y0 += 0.00000000069 * Math.cos(0.16208433765 + 3186.6871931754 * t);
-        Y0 += 0.00000000069 * Math.cos(5.96168258099 + 3494.5376602242 * t);
-        Y0 += 0.00000000067 * Math.cos(6.25396245813 + 26239.44220565039 * t);
-        Y0 += 0.00000000068 * Math.cos(5.50719753243 + 21957.680727747 * t);
-        Y0 += 0.00000000066 * Math.cos(4.30536092690 + 11247.2089647698 * t);
-        Y0 += 0.00000000077 * Math.cos(2.39444593371 + 24076.4445881254 * t);
-        Y0 += 0.00000000076 * Math.cos(1.01053497246 + 13532.0298899322 * t);
-        Y0 += 0.00000000084 * Math.cos(5.20101914018 + 16858.41522263039 * t);
-        Y0 += 0.00000000067 * Math.cos(2.23270360930 + 38813.3565763492 * t);
-        Y0 += 0.00000000077 * Math.cos(0.08344942418 + 11368.1815714092 * t);
-        Y0 += 0.00000000085 * Math.cos(1.07856400767 + 4157.26575291499 * t);
-        Y0 += 0.00000000089 * Math.cos(3.34177814481 + 10817.0876555448 * t);
-        Y0 += 0.00000000092 * Math.cos(5.18283466364 + 1826.3211299833 * t);
-        Y0 += 0.00000000066 * Math.cos(4.17657583502 + 290.4854794696 * t);
-        Y0 += 0.00000000070 * Math.cos(4.20909283675 + 19669.33668423559 * t);
-        Y0 += 0.00000000066 * Math.cos(1.79193621921 + 225.8292684102 * t);
-        Y0 += 0.00000000066 * Math.cos(2.30726767440 + 16056.05130018419 * t);
-        Y0 += 0.00000000068 * Math.cos(5.14021990728 + 4897.1805736552 * t);
-        Y0 += 0.00000000065 * Math.cos(3.86492506381 + 3357.3773174468 * t);
-        Y0 += 0.00000000065 * Math.cos(2.25884185483 + 3323.8475359528 * t);
-        Y0 += 0.00000000066 * Math.cos(2.06968124023 + 3738.6941198052 * t);
-        Y0 += 0.00000000066 * Math.cos(5.64719418861 + 415.5524906121 * t);
-        Y0 += 0.00000000066 * Math.cos(3.64570463979 + 176.6937301338 * t);
-        Y0 += 0.00000000069 * Math.cos(2.89405612412 + 1442.2784624124 * t);
-        Y0 += 0.00000000090 * Math.cos(0.09722302162 + 2885.7030601725 * t);
-        Y0 += 0.00000000090 * Math.cos(6.02654389702 + 3795.5217932271 * t);
-        Y0 += 0.00000000067 * Math.cos(3.85822640732 + 13358.8592781474 * t);
-        Y0 += 0.00000000064 * Math.cos(1.18618912997 + 27579.5236509574 * t);
-        Y0 += 0.00000000064 * Math.cos(3.92685739724 + 16328.72425753579 * t);
-        Y0 += 0.00000000064 * Math.cos(0.63002697211 + 17412.0519357756 * t);
-        Y0 += 0.00000000064 * Math.cos(6.13628411805 + 12082.6551341712 * t);
-        Y0 += 0.00000000081 * Math.cos(4.01871554294 + 5135.8708704208 * t);
-        Y0 += 0.00000000076 * Math.cos(4.53170041047 + 6677.2927001365 * t);
-        Y0 += 0.00000000064 * Math.cos(5.04465453700 + 6563.9049851794 * t);
-        Y0 += 0.00000000070 * Math.cos(3.08875495537 + 12192.8614553906 * t);
-        Y0 += 0.00000000086 * Math.cos(3.10176252564 + 5355.2358814886 * t);
-        Y0 += 0.00000000066 * Math.cos(2.24942817672 + 19247.3765533824 * t);
-        Y0 += 0.00000000067 * Math.cos(5.44247958738 + 4396.47123854 * t);
-        Y0 += 0.00000000066 * Math.cos(3.60520160489 + 12725.453434775 * t);
-        Y0 += 0.00000000066 * Math.cos(4.17490589025 + 3348.7805632822 * t);
-        Y0 += 0.00000000066 * Math.cos(1.94886102839 + 3332.4442901174 * t);
-        Y0 += 0.00000000066 * Math.cos(2.82536431302 + 3377.6080173108 * t);
-        Y0 += 0.00000000066 * Math.cos(3.29840260562 + 3303.6168360888 * t);
-        Y0 += 0.00000000062 * Math.cos(5.68273338954 + 423.075072527 * t);
-        Y0 += 0.00000000073 * Math.cos(6.20381465446 + 7250.046727427 * t);
-        Y0 += 0.00000000063 * Math.cos(2.65135900114 + 15003.7829169958 * t);
-        Y0 += 0.00000000066 * Math.cos(1.66118485339 + 3738.8287404108 * t);
-        Y0 += 0.00000000065 * Math.cos(3.73508000020 + 3226.8829871314 * t);
-        Y0 += 0.00000000065 * Math.cos(2.38868691844 + 3454.3418662682 * t);
-        Y0 += 0.00000000069 * Math.cos(1.02583344251 + 5884.94410023539 * t);
-        Y0 += 0.00000000074 * Math.cos(2.34087857776 + 34363.365597556 * t);
-        Y0 += 0.00000000082 * Math.cos(2.24915344259 + 6573.561329461 * t);
-        Y0 += 0.00000000070 * Math.cos(1.13818844355 + 18977.1790830088 * t);
-        Y0 += 0.00000000078 * Math.cos(3.71449046077 + 12979.553174576 * t);
-        Y0 += 0.00000000062 * Math.cos(5.79908679635 + 7056.9905849698 * t);
-        Y0 += 0.00000000063 * Math.cos(5.86259871722 + 379.3734138742 * t);
-        Y0 += 0.00000000078 * Math.cos(4.78076869333 + 17078.8278650692 * t);
-        Y0 += 0.00000000064 * Math.cos(5.94075179050 + 21258.40957951939 * t);
-        Y0 += 0.00000000066 * Math.cos(4.07415031049 + 1083.260367937 * t);
-        Y0 += 0.00000000061 * Math.cos(4.25199542760 + 3870.2861381422 * t);
-        Y0 += 0.00000000069 * Math.cos(0.74102855275 + 6757.4909246752 * t);
-        Y0 += 0.00000000061 * Math.cos(6.28276705909 + 3870.3206454466 * t);
-        Y0 += 0.00000000072 * Math.cos(6.22961111336 + 3343.5134409896 * t);
-        Y0 += 0.00000000072 * Math.cos(6.17734111246 + 3337.71141241 * t);
-        Y0 += 0.00000000080 * Math.cos(2.74969157442 + 58513.445648901 * t);
-        Y0 += 0.00000000061 * Math.cos(4.70971444185 + 111.1866422876 * t);
-        Y0 += 0.00000000081 * Math.cos(3.28784248765 + 17498.31250894439 * t);
-        Y0 += 0.00000000083 * Math.cos(0.44139928271 + 15276.4558743474 * t);
-        Y0 += 0.00000000062 * Math.cos(2.20405994372 + 628.8515860501 * t);
-        Y0 += 0.00000000074 * Math.cos(3.49171238880 + 23937.856389741 * t);
-        Y0 += 0.00000000069 * Math.cos(2.20872117455 + 1612.9513330316 * t);
-        Y0 += 0.00000000071 * Math.cos(4.62757189666 + 5621.7756129076 * t);
-        Y0 += 0.00000000069 * Math.cos(5.05915612890 + 4558.9378746722 * t);
-        Y0 += 0.00000000079 * Math.cos(4.44340905126 + 33716.9650658664 * t);
-        Y0 += 0.00000000059 * Math.cos(5.27626474644 + 11964.825077627 * t);
-        Y0 += 0.00000000065 * Math.cos(2.28717244651 + 955.2415245996 * t);
-        Y0 += 0.00000000073 * Math.cos(4.45773042596 + 6695.4519474012 * t);
-        Y0 += 0.00000000060 * Math.cos(5.88543199039 + 11663.170490296 * t);
-        Y0 += 0.00000000066 * Math.cos(3.15140979990 + 2899.7871418222 * t);
-        Y0 += 0.00000000068 * Math.cos(4.39166177600 + 16066.0658614748 * t);
-        Y0 += 0.00000000069 * Math.cos(5.27824711820 + 5884.909592931 * t);
-        Y0 += 0.00000000061 * Math.cos(4.50028976319 + 2711.7608406497 * t);
-        Y0 += 0.00000000082 * Math.cos(5.82155435799 + 2636.9792420824 * t);
-        Y0 += 0.00000000059 * Math.cos(3.94027260088 + 9661.7264981378 * t);
-        Y0 += 0.00000000058 * Math.cos(4.37436027757 + 4565.9841113702 * t);
-        Y0 += 0.00000000064 * Math.cos(1.28296566956 + 48273.8617828902 * t);
-        Y0 += 0.00000000061 * Math.cos(2.21724913476 + 17013.9029323674 * t);
-        Y0 += 0.00000000058 * Math.cos(3.58812622576 + 14319.6910373572 * t);
-        Y0 += 0.00000000061 * Math.cos(5.23380071753 + 9161.5273513466 * t);
-        Y0 += 0.00000000058 * Math.cos(3.67174690995 + 27035.7402124668 * t);
-        Y0 += 0.00000000080 * Math.cos(1.66405985109 + 3377.2609896293 * t);
-        Y0 += 0.00000000080 * Math.cos(4.45970706755 + 3303.9638637703 * t);
-        Y0 += 0.00000000063 * Math.cos(1.06524234771 + 9722.7108858302 * t);
-        Y0 += 0.00000000058 * Math.cos(5.44375722328 + 16070.2783941858 * t);
-        Y0 += 0.00000000070 * Math.cos(2.49172817408 + 11787.603905517 * t);
-        Y0 += 0.00000000058 * Math.cos(2.63104479377 + 37703.9780242558 * t);
-        Y0 += 0.00000000057 * Math.cos(2.38086104702 + 8294.1761864312 * t);
-        Y0 += 0.00000000071 * Math.cos(1.30058846825 + 6486.253468939 * t);
-        Y0 += 0.00000000062 * Math.cos(5.09860243429 + 437.6438911399 * t);
-        Y0 += 0.00000000058 * Math.cos(0.02736564724 + 4712.0241901558 * t);
-        Y0 += 0.00000000058 * Math.cos(6.09640127140 + 1969.2006632438 * t);
-        Y0 += 0.00000000065 * Math.cos(1.66267988598 + 5525.8636959926 * t);
-        Y0 += 0.00000000062 * Math.cos(4.76740419366 + 37057.5774925662 * t);
-        Y0 += 0.00000000056 * Math.cos(4.38558900981 + 1619.9975697296 * t);
-        Y0 += 0.00000000073 * Math.cos(2.03298379782 + 3192.5337022735 * t);
-        Y0 += 0.00000000059 * Math.cos(2.44348231635 + 22854.596021804 * t);
-        Y0 += 0.00000000067 * Math.cos(6.18127021051 + 41748.0573289248 * t);
-        Y0 += 0.00000000060 * Math.cos(3.70695466613 + 3348.1911059094 * t);
-        Y0 += 0.00000000060 * Math.cos(2.41681225251 + 3333.03374749019 * t);
-        Y0 += 0.00000000056 * Math.cos(4.86250840352 + 127.9515330346 * t);
-        Y0 += 0.00000000056 * Math.cos(4.54875701369 + 669.3891046174 * t);
-        Y0 += 0.00000000070 * Math.cos(6.23515306355 + 418.504322807 * t);
-        Y0 += 0.00000000073 * Math.cos(1.03020384035 + 3189.5647568569 * t);
-        Y0 += 0.00000000055 * Math.cos(1.77445448768 + 3325.8751443742 * t);
-        Y0 += 0.00000000055 * Math.cos(4.34931243097 + 3355.3497090254 * t);
-        Y0 += 0.00000000057 * Math.cos(4.00512521652 + 1022.776564885 * t);
-        Y0 += 0.00000000065 * Math.cos(5.63019442143 + 41236.0387170672 * t);
-        Y0 += 0.00000000057 * Math.cos(1.32005258528 + 15842.7522047462 * t);
-        Y0 += 0.00000000062 * Math.cos(3.76071367297 + 222.8603229936 * t);
-        Y0 += 0.00000000058 * Math.cos(4.55616432881 + 26637.59120905859 * t);
-        Y0 += 0.00000000063 * Math.cos(4.40389547553 + 4136.9276871684 * t);
-        Y0 += 0.00000000055 * Math.cos(5.67519189985 + 13738.2154383694 * t);
-        Y0 += 0.00000000055 * Math.cos(5.08574798354 + 25665.5174834092 * t);
-        Y0 += 0.00000000057 * Math.cos(5.20075468392 + 41427.4869831788 * t);
-        Y0 += 0.00000000061 * Math.cos(0.88840285577 + 7630.4004623694 * t);
-        Y0 += 0.00000000055 * Math.cos(1.23041444279 + 838.9692877504 * t);
-        Y0 += 0.00000000062 * Math.cos(0.84993046181 + 11030.3867509828 * t);
-        Y0 += 0.00000000054 * Math.cos(3.91709923051 + 8528.7436120334 * t);
-        Y0 += 0.00000000059 * Math.cos(3.56862936961 + 16342.9513515374 * t);
-        Y0 += 0.00000000067 * Math.cos(4.29317097897 + 13366.040135451 * t);
-        Y0 += 0.00000000057 * Math.cos(5.77490231900 + 33163.395663024 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 969 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 -= 0.01427324210;
-        Y1 += 0.00551063753 * Math.cos(3.52128320402 + 6681.2248533996 * t);
-        Y1 += 0.00077091913 * Math.cos(3.86082685753 + 10021.8372800994 * t);
-        Y1 += 0.00037310491 * Math.cos(1.16016958445 + 3340.6124266998 * t);
-        Y1 += 0.00009582122 * Math.cos(4.19942354479 + 13362.4497067992 * t);
-        Y1 += 0.00002617695 * Math.cos(1.47284555520 + 3337.0893083508 * t);
-        Y1 += 0.00002611572 * Math.cos(4.65030772498 + 3344.1355450488 * t);
-        Y1 += 0.00001162955 * Math.cos(4.53778503576 + 16703.062133499 * t);
-        Y1 += 0.00000900678 * Math.cos(1.74256260709 + 1059.3819301892 * t);
-        Y1 += 0.00000431990 * Math.cos(1.20122419783 + 2942.4634232916 * t);
-        Y1 += 0.00000389982 * Math.cos(4.38779713561 + 5621.8429232104 * t);
-        Y1 += 0.00000380122 * Math.cos(4.93073729444 + 3738.761430108 * t);
-        Y1 += 0.00000394355 * Math.cos(4.91119397796 + 6684.7479717486 * t);
-        Y1 += 0.00000336661 * Math.cos(3.63990879619 + 3149.1641605882 * t);
-        Y1 += 0.00000333604 * Math.cos(0.88647104051 + 3185.1920272656 * t);
-        Y1 += 0.00000318324 * Math.cos(2.48122345477 + 3532.0606928114 * t);
-        Y1 += 0.00000316743 * Math.cos(5.23316524269 + 3496.032826134 * t);
-        Y1 += 0.00000311468 * Math.cos(2.66149474204 + 2544.3144198834 * t);
-        Y1 += 0.00000283006 * Math.cos(3.01270555394 + 796.2980068164 * t);
-        Y1 += 0.00000259715 * Math.cos(3.45285007540 + 4136.9104335162 * t);
-        Y1 += 0.00000204277 * Math.cos(1.62196956205 + 1194.4470102246 * t);
-        Y1 += 0.00000140506 * Math.cos(4.87611060370 + 20043.6745601988 * t);
-        Y1 += 0.00000159094 * Math.cos(2.00474963161 + 1589.0728952838 * t);
-        Y1 += 0.00000133054 * Math.cos(3.06497749499 + 5884.9268465832 * t);
-        Y1 += 0.00000132221 * Math.cos(2.12903733409 + 4399.994356889 * t);
-        Y1 += 0.00000126748 * Math.cos(1.25031299906 + 6677.7017350506 * t);
-        Y1 += 0.00000103023 * Math.cos(4.48653117588 + 5486.777843175 * t);
-        Y1 += 0.00000128526 * Math.cos(0.22328095820 + 1592.5960136328 * t);
-        Y1 += 0.00000101352 * Math.cos(3.97061208738 + 3339.6321056316 * t);
-        Y1 += 0.00000101253 * Math.cos(2.15203295056 + 3341.592747768 * t);
-        Y1 += 0.00000090029 * Math.cos(4.30631925657 + 3870.3033917944 * t);
-        Y1 += 0.00000083977 * Math.cos(5.10438299040 + 1990.745017041 * t);
-        Y1 += 0.00000079143 * Math.cos(2.34466378410 + 426.598190876 * t);
-        Y1 += 0.00000078865 * Math.cos(3.69323302292 + 2146.1654164752 * t);
-        Y1 += 0.00000077132 * Math.cos(5.35293989072 + 7079.3738568078 * t);
-        Y1 += 0.00000081297 * Math.cos(4.10751911033 + 5092.1519581158 * t);
-        Y1 += 0.00000063835 * Math.cos(3.70028305724 + 2388.8940204492 * t);
-        Y1 += 0.00000057287 * Math.cos(5.21462580599 + 10025.3603984484 * t);
-        Y1 += 0.00000056119 * Math.cos(0.33784373101 + 3097.88382272579 * t);
-        Y1 += 0.00000069177 * Math.cos(5.81634207831 + 5088.6288397668 * t);
-        Y1 += 0.00000075448 * Math.cos(2.03864215811 + 4535.0594369244 * t);
-        Y1 += 0.00000055487 * Math.cos(5.92856755611 + 9492.1463150048 * t);
-        Y1 += 0.00000052915 * Math.cos(5.76012128769 + 3583.3410306738 * t);
-        Y1 += 0.00000070493 * Math.cos(2.29434635167 + 2787.0430238574 * t);
-        Y1 += 0.00000050121 * Math.cos(0.89975887576 + 4690.4798363586 * t);
-        Y1 += 0.00000056817 * Math.cos(4.97137861156 + 7.1135470008 * t);
-        Y1 += 0.00000054006 * Math.cos(1.17848219667 + 2957.7158944766 * t);
-        Y1 += 0.00000049131 * Math.cos(6.22165192434 + 191.4482661116 * t);
-        Y1 += 0.00000049195 * Math.cos(0.93502149184 + 6681.2075997474 * t);
-        Y1 += 0.00000057046 * Math.cos(3.78172576129 + 3894.1818295422 * t);
-        Y1 += 0.00000043884 * Math.cos(2.32328576357 + 4292.3308329504 * t);
-        Y1 += 0.00000049195 * Math.cos(2.96579325551 + 6681.2421070518 * t);
-        Y1 += 0.00000046747 * Math.cos(4.90372286627 + 3723.508958923 * t);
-        Y1 += 0.00000053525 * Math.cos(2.72772193635 + 155.4203994342 * t);
-        Y1 += 0.00000047371 * Math.cos(4.07058844113 + 6489.776587288 * t);
-        Y1 += 0.00000037259 * Math.cos(4.77560729076 + 3553.9115221378 * t);
-        Y1 += 0.00000036147 * Math.cos(1.35491513022 + 3127.3133312618 * t);
-        Y1 += 0.00000035282 * Math.cos(1.23254843453 + 6525.8044539654 * t);
-        Y1 += 0.00000033179 * Math.cos(3.51707222671 + 3333.498879699 * t);
-        Y1 += 0.00000034809 * Math.cos(4.18192362595 + 1748.016413067 * t);
-        Y1 += 0.00000039091 * Math.cos(3.80640955175 + 7477.522860216 * t);
-        Y1 += 0.00000029410 * Math.cos(3.77101802200 + 6254.6266625236 * t);
-        Y1 += 0.00000030407 * Math.cos(5.07104519098 + 1349.8674096588 * t);
-        Y1 += 0.00000027239 * Math.cos(1.35659219412 + 553.5694028424 * t);
-        Y1 += 0.00000027517 * Math.cos(2.17565128432 + 12303.06777661 * t);
-        Y1 += 0.00000027442 * Math.cos(0.62028270680 + 4933.2084403326 * t);
-        Y1 += 0.00000028052 * Math.cos(2.66985509990 + 3347.7259737006 * t);
-        Y1 += 0.00000025853 * Math.cos(1.75047537209 + 2810.9214616052 * t);
-        Y1 += 0.00000027323 * Math.cos(0.02095781900 + 951.7184062506 * t);
-        Y1 += 0.00000024444 * Math.cos(4.65604652875 + 1066.49547719 * t);
-        Y1 += 0.00000029191 * Math.cos(1.08806577148 + 639.897286314 * t);
-        Y1 += 0.00000021261 * Math.cos(2.27370365360 + 4929.6853219836 * t);
-        Y1 += 0.00000023424 * Math.cos(2.34960187821 + 382.8965322232 * t);
-        Y1 += 0.00000024778 * Math.cos(2.29327452220 + 2118.7638603784 * t);
-        Y1 += 0.00000018679 * Math.cos(5.30877056453 + 242.728603974 * t);
-        Y1 += 0.00000018299 * Math.cos(5.31873037196 + 9623.6882766912 * t);
-        Y1 += 0.00000017050 * Math.cos(0.73617668321 + 3320.257107301 * t);
-        Y1 += 0.00000016932 * Math.cos(5.38596885509 + 3360.96774609859 * t);
-        Y1 += 0.00000016989 * Math.cos(5.21435353899 + 23384.2869868986 * t);
-        Y1 += 0.00000016202 * Math.cos(5.29675788446 + 6681.1575430968 * t);
-        Y1 += 0.00000015998 * Math.cos(5.16249823288 + 1052.2683831884 * t);
-        Y1 += 0.00000017035 * Math.cos(1.13076170583 + 6674.1113063988 * t);
-        Y1 += 0.00000014564 * Math.cos(0.35017458981 + 10018.3141617504 * t);
-        Y1 += 0.00000016726 * Math.cos(5.37963018761 + 7210.9158184942 * t);
-        Y1 += 0.00000017704 * Math.cos(2.46673313442 + 7740.6067835888 * t);
-        Y1 += 0.00000016030 * Math.cos(2.67705196127 + 3325.3599555148 * t);
-        Y1 += 0.00000015941 * Math.cos(3.44411402721 + 3355.8648978848 * t);
-        Y1 += 0.00000016202 * Math.cos(4.88823057997 + 6681.2921637024 * t);
-        Y1 += 0.00000013784 * Math.cos(6.26149521160 + 12832.7587417046 * t);
-        Y1 += 0.00000012927 * Math.cos(4.16022928360 + 2281.2304965106 * t);
-        Y1 += 0.00000016504 * Math.cos(3.81227944624 + 4562.4609930212 * t);
-        Y1 += 0.00000014766 * Math.cos(2.06347095335 + 2274.1169495098 * t);
-        Y1 += 0.00000012471 * Math.cos(2.52252246459 + 6682.2051744678 * t);
-        Y1 += 0.00000012672 * Math.cos(5.48550960002 + 5331.3574437408 * t);
-        Y1 += 0.00000013354 * Math.cos(1.61202229522 + 2288.3440435114 * t);
-        Y1 += 0.00000013054 * Math.cos(2.91942689347 + 3767.2106175758 * t);
-        Y1 += 0.00000010891 * Math.cos(0.68185023633 + 6438.4962494256 * t);
-        Y1 += 0.00000010802 * Math.cos(6.26800346088 + 529.6909650946 * t);
-        Y1 += 0.00000011971 * Math.cos(0.35152568832 + 536.8045120954 * t);
-        Y1 += 0.00000011249 * Math.cos(0.90083527171 + 522.5774180938 * t);
-        Y1 += 0.00000010294 * Math.cos(2.38590207291 + 7875.6718636242 * t);
-        Y1 += 0.00000009941 * Math.cos(5.46223635331 + 398.1490034082 * t);
-        Y1 += 0.00000010388 * Math.cos(1.43082762360 + 5614.7293762096 * t);
-        Y1 += 0.00000012500 * Math.cos(5.71657132706 + 10419.9862835076 * t);
-        Y1 += 0.00000010337 * Math.cos(3.30570903459 + 10021.8545337516 * t);
-        Y1 += 0.00000009227 * Math.cos(5.18749993680 + 6836.6452528338 * t);
-        Y1 += 0.00000008846 * Math.cos(6.25668148581 + 3205.5473466644 * t);
-        Y1 += 0.00000011308 * Math.cos(5.02952138409 + 6041.3275670856 * t);
-        Y1 += 0.00000008356 * Math.cos(6.14980327580 + 3475.6775067352 * t);
-        Y1 += 0.00000010337 * Math.cos(1.27493070103 + 10021.8200264472 * t);
-        Y1 += 0.00000007741 * Math.cos(5.02756320298 + 1751.539531416 * t);
-        Y1 += 0.00000007737 * Math.cos(5.74646451299 + 2700.7151403858 * t);
-        Y1 += 0.00000008096 * Math.cos(5.53364318065 + 13365.9728251482 * t);
-        Y1 += 0.00000007402 * Math.cos(2.50809887388 + 15643.6802033098 * t);
-        Y1 += 0.00000007789 * Math.cos(2.64751868576 + 6127.6554505572 * t);
-        Y1 += 0.00000007616 * Math.cos(3.55216836649 + 6151.533888305 * t);
-        Y1 += 0.00000006888 * Math.cos(0.93821376086 + 5628.9564702112 * t);
-        Y1 += 0.00000006653 * Math.cos(3.04079800434 + 3178.1457905676 * t);
-        Y1 += 0.00000006214 * Math.cos(1.52971949909 + 6298.3283211764 * t);
-        Y1 += 0.00000006257 * Math.cos(3.08467357092 + 3503.079062832 * t);
-        Y1 += 0.00000006358 * Math.cos(4.02054439730 + 3316.733988952 * t);
-        Y1 += 0.00000007832 * Math.cos(4.06330977332 + 5729.506447149 * t);
-        Y1 += 0.00000006311 * Math.cos(2.10530552076 + 3364.4908644476 * t);
-        Y1 += 0.00000006743 * Math.cos(4.45650314997 + 9830.3890139878 * t);
-        Y1 += 0.00000005783 * Math.cos(4.93861223005 + 213.299095438 * t);
-        Y1 += 0.00000007061 * Math.cos(3.40544179657 + 8962.4553499102 * t);
-        Y1 += 0.00000007288 * Math.cos(5.34922729060 + 6894.5239488376 * t);
-        Y1 += 0.00000006005 * Math.cos(0.07486054185 + 853.196381752 * t);
-        Y1 += 0.00000005569 * Math.cos(4.14856676480 + 10818.1352869158 * t);
-        Y1 += 0.00000005114 * Math.cos(5.13541858012 + 8031.0922630584 * t);
-        Y1 += 0.00000005536 * Math.cos(2.55163508803 + 1758.6530784168 * t);
-        Y1 += 0.00000005305 * Math.cos(2.64975260653 + 2648.454825473 * t);
-        Y1 += 0.00000006551 * Math.cos(4.25238620522 + 6680.2445323314 * t);
-        Y1 += 0.00000005494 * Math.cos(6.10090252680 + 6923.9534573736 * t);
-        Y1 += 0.00000004643 * Math.cos(1.64332559992 + 7234.794256242 * t);
-        Y1 += 0.00000005078 * Math.cos(4.68151022722 + 1596.1864422846 * t);
-        Y1 += 0.00000004842 * Math.cos(5.16943706039 + 6158.6474353058 * t);
-        Y1 += 0.00000004542 * Math.cos(2.44702860525 + 7064.1213856228 * t);
-        Y1 += 0.00000005003 * Math.cos(2.03413689759 + 433.7117378768 * t);
-        Y1 += 0.00000004336 * Math.cos(5.65658515228 + 12964.300703391 * t);
-        Y1 += 0.00000004779 * Math.cos(5.76036610082 + 6144.4203413042 * t);
-        Y1 += 0.00000004652 * Math.cos(2.63332997018 + 2914.0142358238 * t);
-        Y1 += 0.00000004580 * Math.cos(1.41608119487 + 5085.038411115 * t);
-        Y1 += 0.00000003970 * Math.cos(5.05439636873 + 3312.163239232 * t);
-        Y1 += 0.00000005474 * Math.cos(0.24241650562 + 7632.9432596502 * t);
-        Y1 += 0.00000004214 * Math.cos(3.49717782339 + 4032.7700279266 * t);
-        Y1 += 0.00000003894 * Math.cos(1.06212840662 + 3369.0616141676 * t);
-        Y1 += 0.00000003817 * Math.cos(3.90998982450 + 640.8776073822 * t);
-        Y1 += 0.00000003721 * Math.cos(3.02454190848 + 3346.1353510072 * t);
-        Y1 += 0.00000003720 * Math.cos(3.09809824482 + 3335.0895023924 * t);
-        Y1 += 0.00000004799 * Math.cos(3.06592497293 + 6688.3384004004 * t);
-        Y1 += 0.00000004128 * Math.cos(1.57312639696 + 9866.4168806652 * t);
-        Y1 += 0.00000003556 * Math.cos(0.96329089902 + 8273.8208670324 * t);
-        Y1 += 0.00000003629 * Math.cos(5.96999972361 + 3304.5845600224 * t);
-        Y1 += 0.00000003622 * Math.cos(4.42683813801 + 1581.959348283 * t);
-        Y1 += 0.00000003577 * Math.cos(0.15378568235 + 3376.6402933772 * t);
-        Y1 += 0.00000004442 * Math.cos(2.50701068861 + 11773.3768115154 * t);
-        Y1 += 0.00000003832 * Math.cos(1.42518467938 + 8969.568896911 * t);
-        Y1 += 0.00000003410 * Math.cos(5.22584770856 + 10021.9045904022 * t);
-        Y1 += 0.00000004071 * Math.cos(1.88545339582 + 3863.1898447936 * t);
-        Y1 += 0.00000003884 * Math.cos(1.89998927465 + 8955.3418029094 * t);
-        Y1 += 0.00000004357 * Math.cos(4.12849233981 + 2818.035008606 * t);
-        Y1 += 0.00000003574 * Math.cos(2.44194831685 + 1744.4259844152 * t);
-        Y1 += 0.00000003245 * Math.cos(5.21748676321 + 149.5631971346 * t);
-        Y1 += 0.00000003156 * Math.cos(1.61783457949 + 3980.5097130138 * t);
-        Y1 += 0.00000003130 * Math.cos(3.88131318196 + 3344.4937620578 * t);
-        Y1 += 0.00000003117 * Math.cos(2.24732563525 + 3336.7310913418 * t);
-        Y1 += 0.00000003400 * Math.cos(5.63288877479 + 10021.7699697966 * t);
-        Y1 += 0.00000003019 * Math.cos(2.47972483962 + 419.4846438752 * t);
-        Y1 += 0.00000003128 * Math.cos(3.75424825002 + 8432.7643848156 * t);
-        Y1 += 0.00000003010 * Math.cos(5.98032518225 + 10551.528245194 * t);
-        Y1 += 0.00000003084 * Math.cos(0.21639027416 + 13358.9265884502 * t);
-        Y1 += 0.00000002934 * Math.cos(0.51109476282 + 2487.4160449478 * t);
-        Y1 += 0.00000002876 * Math.cos(2.58450457222 + 8270.2977486834 * t);
-        Y1 += 0.00000003502 * Math.cos(1.28355216461 + 5099.2655051166 * t);
-        Y1 += 0.00000003129 * Math.cos(2.49440075955 + 5459.3762870782 * t);
-        Y1 += 0.00000003208 * Math.cos(1.56658459531 + 2699.7348193176 * t);
-        Y1 += 0.00000002528 * Math.cos(4.21676297033 + 3333.5661900018 * t);
-        Y1 += 0.00000003353 * Math.cos(2.01774997575 + 9225.539273283 * t);
-        Y1 += 0.00000002447 * Math.cos(4.92763323216 + 2766.267628365 * t);
-        Y1 += 0.00000002993 * Math.cos(4.34648489293 + 3981.490034082 * t);
-        Y1 += 0.00000002323 * Math.cos(5.60449935667 + 9381.9399937854 * t);
-        Y1 += 0.00000002315 * Math.cos(3.69144185016 + 8429.2412664666 * t);
-        Y1 += 0.00000002186 * Math.cos(5.03043655370 + 4407.1079038898 * t);
-        Y1 += 0.00000002333 * Math.cos(3.51432934451 + 8827.3902698748 * t);
-        Y1 += 0.00000002510 * Math.cos(0.31296140818 + 16173.3711684044 * t);
-        Y1 += 0.00000002391 * Math.cos(5.51442084031 + 9808.5381846614 * t);
-        Y1 += 0.00000002153 * Math.cos(6.04353805522 + 1221.8485663214 * t);
-        Y1 += 0.00000002428 * Math.cos(2.80037448528 + 11081.2192102886 * t);
-        Y1 += 0.00000002711 * Math.cos(5.83797793809 + 5828.0284716476 * t);
-        Y1 += 0.00000002751 * Math.cos(2.14536436215 + 6467.9257579616 * t);
-        Y1 += 0.00000002111 * Math.cos(2.06365035238 + 15113.9892382152 * t);
-        Y1 += 0.00000002486 * Math.cos(0.24395631995 + 6283.0758499914 * t);
-        Y1 += 0.00000001887 * Math.cos(4.88255979507 + 76.2660712756 * t);
-        Y1 += 0.00000001842 * Math.cos(1.21823822975 + 1692.1656695024 * t);
-        Y1 += 0.00000002114 * Math.cos(1.63888168497 + 3347.6586633978 * t);
-        Y1 += 0.00000001862 * Math.cos(6.06481817113 + 13760.5987102074 * t);
-        Y1 += 0.00000001717 * Math.cos(3.64496480459 + 13362.4669604514 * t);
-        Y1 += 0.00000001744 * Math.cos(0.22355971935 + 6816.289933435 * t);
-        Y1 += 0.00000001781 * Math.cos(0.87193778743 + 6660.4494579072 * t);
-        Y1 += 0.00000001717 * Math.cos(1.61419317923 + 13362.432453147 * t);
-        Y1 += 0.00000001771 * Math.cos(0.59857555923 + 10973.55568635 * t);
-        Y1 += 0.00000001856 * Math.cos(1.06629718188 + 3914.9572250346 * t);
-        Y1 += 0.00000001668 * Math.cos(0.60430699219 + 3340.629680352 * t);
-        Y1 += 0.00000001738 * Math.cos(2.07820814390 + 3281.2385647862 * t);
-        Y1 += 0.00000001612 * Math.cos(5.64202929021 + 3.523118349 * t);
-        Y1 += 0.00000002059 * Math.cos(5.55274042469 + 26724.8994135984 * t);
-        Y1 += 0.00000002154 * Math.cos(0.15347526650 + 6872.6731195112 * t);
-        Y1 += 0.00000001831 * Math.cos(4.08960877991 + 6247.5131155228 * t);
-        Y1 += 0.00000001814 * Math.cos(3.79433881585 + 220.4126424388 * t);
-        Y1 += 0.00000001698 * Math.cos(4.04559929798 + 3399.9862886134 * t);
-        Y1 += 0.00000001668 * Math.cos(4.85673659823 + 3340.5951730476 * t);
-        Y1 += 0.00000001533 * Math.cos(1.46147125549 + 3877.4169387952 * t);
-        Y1 += 0.00000001638 * Math.cos(1.96384800147 + 6040.3472460174 * t);
-        Y1 += 0.00000001500 * Math.cos(4.88545461881 + 574.3447983348 * t);
-        Y1 += 0.00000001628 * Math.cos(2.88073838002 + 10022.8176011676 * t);
-        Y1 += 0.00000001499 * Math.cos(4.57008817883 + 206.1855484372 * t);
-        Y1 += 0.00000001807 * Math.cos(3.79979610143 + 6696.4773245846 * t);
-        Y1 += 0.00000001592 * Math.cos(4.82870996320 + 2921.1277828246 * t);
-        Y1 += 0.00000001767 * Math.cos(1.07911448965 + 6660.8695340008 * t);
-        Y1 += 0.00000001540 * Math.cos(2.31576232583 + 8439.8779318164 * t);
-        Y1 += 0.00000001378 * Math.cos(2.72606150117 + 11216.284290324 * t);
-        Y1 += 0.00000001685 * Math.cos(3.32579486669 + 7107.8230442756 * t);
-        Y1 += 0.00000001849 * Math.cos(2.11621487275 + 10575.4066829418 * t);
-        Y1 += 0.00000001360 * Math.cos(0.70553844479 + 3074.005384978 * t);
-        Y1 += 0.00000001302 * Math.cos(2.98694021349 + 6665.9723822146 * t);
-        Y1 += 0.00000001305 * Math.cos(5.68793695675 + 6701.5801727984 * t);
-        Y1 += 0.00000001584 * Math.cos(5.82704739199 + 8671.9698704406 * t);
-        Y1 += 0.00000001529 * Math.cos(5.28219831652 + 3546.797975137 * t);
-        Y1 += 0.00000001498 * Math.cos(1.47147884583 + 10014.7237330986 * t);
-        Y1 += 0.00000001231 * Math.cos(2.92458380429 + 1228.9621133222 * t);
-        Y1 += 0.00000001494 * Math.cos(0.80790809310 + 3134.4268782626 * t);
-        Y1 += 0.00000001411 * Math.cos(2.84106148241 + 18984.2926300096 * t);
-        Y1 += 0.00000001219 * Math.cos(5.41837474083 + 3607.2194684216 * t);
-        Y1 += 0.00000001195 * Math.cos(5.80939850807 + 3361.3878221922 * t);
-        Y1 += 0.00000001122 * Math.cos(5.95969052898 + 110.2063212194 * t);
-        Y1 += 0.00000001159 * Math.cos(5.00834942258 + 11371.7046897582 * t);
-        Y1 += 0.00000001161 * Math.cos(0.30017004686 + 3319.8370312074 * t);
-        Y1 += 0.00000001108 * Math.cos(1.71153266675 + 12935.8515159232 * t);
-        Y1 += 0.00000001503 * Math.cos(3.03363878314 + 6702.000248892 * t);
-        Y1 += 0.00000001157 * Math.cos(5.78852492425 + 10235.1363755374 * t);
-        Y1 += 0.00000001089 * Math.cos(0.71433907378 + 3169.9395560806 * t);
-        Y1 += 0.00000001068 * Math.cos(2.16721753485 + 6684.8152820514 * t);
-        Y1 += 0.00000001093 * Math.cos(0.92444199357 + 6531.661656265 * t);
-        Y1 += 0.00000001373 * Math.cos(2.53168716711 + 1039.0266107904 * t);
-        Y1 += 0.00000001415 * Math.cos(1.04970568569 + 647.0108333148 * t);
-        Y1 += 0.00000001037 * Math.cos(1.46452965647 + 4555.3474460204 * t);
-        Y1 += 0.00000001104 * Math.cos(1.77456576036 + 4569.574540022 * t);
-        Y1 += 0.00000001029 * Math.cos(3.75910353418 + 6261.7402095244 * t);
-        Y1 += 0.00000001002 * Math.cos(0.43098035565 + 9779.1086761254 * t);
-        Y1 += 0.00000001020 * Math.cos(5.40929385267 + 3511.285297319 * t);
-        Y1 += 0.00000001063 * Math.cos(1.72982874710 + 6677.6344247478 * t);
-        Y1 += 0.00000001245 * Math.cos(4.07589616535 + 10177.2576795336 * t);
-        Y1 += 0.00000000993 * Math.cos(2.20093983157 + 8425.6508378148 * t);
-        Y1 += 0.00000000938 * Math.cos(4.81919246949 + 4989.0591838972 * t);
-        Y1 += 0.00000000922 * Math.cos(2.99264828336 + 9468.267877257 * t);
-        Y1 += 0.00000000918 * Math.cos(4.81951639068 + 13171.0014406876 * t);
-        Y1 += 0.00000000889 * Math.cos(4.77878515126 + 3561.0250691386 * t);
-        Y1 += 0.00000000887 * Math.cos(0.78830636358 + 3760.097070575 * t);
-        Y1 += 0.00000000998 * Math.cos(3.90126093816 + 11769.8536931664 * t);
-        Y1 += 0.00000000874 * Math.cos(0.12089365253 + 956.2891559706 * t);
-        Y1 += 0.00000001056 * Math.cos(4.56585915944 + 2906.900688823 * t);
-        Y1 += 0.00000000928 * Math.cos(4.41590375701 + 9070.1188738488 * t);
-        Y1 += 0.00000000840 * Math.cos(4.83825664806 + 2125.8774073792 * t);
-        Y1 += 0.00000000880 * Math.cos(0.90436253322 + 3313.210870603 * t);
-        Y1 += 0.00000001010 * Math.cos(5.75999052682 + 3253.30422216 * t);
-        Y1 += 0.00000000870 * Math.cos(5.21940713846 + 3368.0139827966 * t);
-        Y1 += 0.00000000967 * Math.cos(2.95682389977 + 9595.2390892234 * t);
-        Y1 += 0.00000000825 * Math.cos(4.16526325583 + 1861.7458526354 * t);
-        Y1 += 0.00000000819 * Math.cos(1.28139939096 + 3120.199784261 * t);
-        Y1 += 0.00000000812 * Math.cos(0.30945449993 + 9168.6408983474 * t);
-        Y1 += 0.00000000974 * Math.cos(0.36385416352 + 3427.9206312396 * t);
-        Y1 += 0.00000001092 * Math.cos(4.03195323532 + 2803.8079146044 * t);
-        Y1 += 0.00000001121 * Math.cos(5.85882470690 + 16706.585251848 * t);
-        Y1 += 0.00000000757 * Math.cos(4.49953469679 + 14158.7477136156 * t);
-        Y1 += 0.00000000744 * Math.cos(1.14486727666 + 3443.7052009184 * t);
-        Y1 += 0.00000000769 * Math.cos(1.88091883970 + 9638.9407478762 * t);
-        Y1 += 0.00000000727 * Math.cos(2.52800596414 + 10404.7338123226 * t);
-        Y1 += 0.00000000800 * Math.cos(3.22072343557 + 6518.7582172674 * t);
-        Y1 += 0.00000000725 * Math.cos(1.60568151338 + 6475.0393049624 * t);
-        Y1 += 0.00000000730 * Math.cos(1.45023184025 + 6709.6740408674 * t);
-        Y1 += 0.00000000782 * Math.cos(1.30886254759 + 632.7837393132 * t);
-        Y1 += 0.00000000794 * Math.cos(5.99496548901 + 16304.9131300908 * t);
-        Y1 += 0.00000000750 * Math.cos(4.51007684915 + 3296.8935143948 * t);
-        Y1 += 0.00000000688 * Math.cos(3.43319222752 + 10028.9508271002 * t);
-        Y1 += 0.00000000737 * Math.cos(1.61370530514 + 3384.3313390048 * t);
-        Y1 += 0.00000000646 * Math.cos(4.99729356736 + 3237.5196524812 * t);
-        Y1 += 0.00000000674 * Math.cos(1.39940720264 + 2807.3983432562 * t);
-        Y1 += 0.00000000845 * Math.cos(5.55182215578 + 9499.2598620056 * t);
-        Y1 += 0.00000000627 * Math.cos(5.82304741654 + 13149.1506113612 * t);
-        Y1 += 0.00000000629 * Math.cos(2.87628485086 + 1214.7350193206 * t);
-        Y1 += 0.00000000687 * Math.cos(4.23661989758 + 13517.8701062334 * t);
-        Y1 += 0.00000000630 * Math.cos(1.23559488085 + 6604.958782124 * t);
-        Y1 += 0.00000000710 * Math.cos(2.32420903412 + 6460.8122109608 * t);
-        Y1 += 0.00000000701 * Math.cos(5.09953279615 + 3311.18291816379 * t);
-        Y1 += 0.00000000701 * Math.cos(1.02423412249 + 3370.0419352358 * t);
-        Y1 += 0.00000000608 * Math.cos(4.60746109269 + 949.1756089698 * t);
-        Y1 += 0.00000000596 * Math.cos(1.14907377568 + 12566.1516999828 * t);
-        Y1 += 0.00000000716 * Math.cos(1.82681889911 + 12310.1813236108 * t);
-        Y1 += 0.00000000633 * Math.cos(0.43972121001 + 692.1576012268 * t);
-        Y1 += 0.00000000576 * Math.cos(2.64908131601 + 13916.0191096416 * t);
-        Y1 += 0.00000000646 * Math.cos(4.20443037448 + 2111.6503133776 * t);
-        Y1 += 0.00000000544 * Math.cos(0.40037320261 + 16699.53901514999 * t);
-        Y1 += 0.00000000548 * Math.cos(2.52376915314 + 3340.6797370026 * t);
-        Y1 += 0.00000000539 * Math.cos(3.72942723734 + 2178.137722292 * t);
-        Y1 += 0.00000000623 * Math.cos(0.15818615271 + 10264.5658840734 * t);
-        Y1 += 0.00000000539 * Math.cos(5.53271145759 + 3490.1756238344 * t);
-        Y1 += 0.00000000557 * Math.cos(5.56701497497 + 13362.517017102 * t);
-        Y1 += 0.00000000563 * Math.cos(1.10897333902 + 1437.1756141986 * t);
-        Y1 += 0.00000000536 * Math.cos(5.69295314880 + 2693.601593385 * t);
-        Y1 += 0.00000000647 * Math.cos(5.65118044969 + 4392.8808098882 * t);
-        Y1 += 0.00000000530 * Math.cos(4.63403553551 + 1375.7737998458 * t);
-        Y1 += 0.00000000538 * Math.cos(4.72229720906 + 3873.8265101434 * t);
-        Y1 += 0.00000000584 * Math.cos(0.55159339980 + 4193.8088084518 * t);
-        Y1 += 0.00000000630 * Math.cos(2.13231136184 + 11243.6858464208 * t);
-        Y1 += 0.00000000505 * Math.cos(6.09305482682 + 9485.032768004 * t);
-        Y1 += 0.00000000501 * Math.cos(1.36918398108 + 224.3447957019 * t);
-        Y1 += 0.00000000669 * Math.cos(5.22911771220 + 2707.8286873866 * t);
-        Y1 += 0.00000000670 * Math.cos(4.37490154824 + 6657.3464156518 * t);
-        Y1 += 0.00000000491 * Math.cos(2.60376575150 + 3774.3241645766 * t);
-        Y1 += 0.00000000513 * Math.cos(3.36932239157 + 3232.9489027612 * t);
-        Y1 += 0.00000000590 * Math.cos(4.86990668927 + 6034.2140200848 * t);
-        Y1 += 0.00000000577 * Math.cos(2.26728370057 + 18454.601664915 * t);
-        Y1 += 0.00000000613 * Math.cos(2.82948093577 + 5989.0672521728 * t);
-        Y1 += 0.00000000535 * Math.cos(3.23990732356 + 5642.1982426092 * t);
-        Y1 += 0.00000000492 * Math.cos(2.75437635016 + 3448.2759506384 * t);
-        Y1 += 0.00000000477 * Math.cos(2.98529100201 + 6843.6914895318 * t);
-        Y1 += 0.00000000483 * Math.cos(2.08187058985 + 12295.9542296092 * t);
-        Y1 += 0.00000000463 * Math.cos(6.10084466162 + 3229.4257844122 * t);
-        Y1 += 0.00000000506 * Math.cos(2.38698988700 + 2301.58581590939 * t);
-        Y1 += 0.00000000540 * Math.cos(3.87479718518 + 7903.073419721 * t);
-        Y1 += 0.00000000446 * Math.cos(4.30997409674 + 6048.4411140864 * t);
-        Y1 += 0.00000000444 * Math.cos(2.38797656832 + 6705.1032911474 * t);
-        Y1 += 0.00000000443 * Math.cos(0.02289876855 + 3451.7990689874 * t);
-        Y1 += 0.00000000530 * Math.cos(5.18892175358 + 7255.5696517344 * t);
-        Y1 += 0.00000000557 * Math.cos(5.97553834508 + 13362.3823964964 * t);
-        Y1 += 0.00000000548 * Math.cos(2.93176743519 + 3340.545116397 * t);
-        Y1 += 0.00000000494 * Math.cos(1.91461298039 + 13207.029307365 * t);
-        Y1 += 0.00000000402 * Math.cos(0.14917407616 + 6571.0185321802 * t);
-        Y1 += 0.00000000413 * Math.cos(2.77393455325 + 8799.988713778 * t);
-        Y1 += 0.00000000488 * Math.cos(1.41120383831 + 2221.856634597 * t);
-        Y1 += 0.00000000398 * Math.cos(1.17032491098 + 7895.9598727202 * t);
-        Y1 += 0.00000000421 * Math.cos(2.92811239290 + 4379.6390374902 * t);
-        Y1 += 0.00000000419 * Math.cos(0.51900494769 + 135.0650800354 * t);
-        Y1 += 0.00000000472 * Math.cos(5.05179451193 + 4936.7988689844 * t);
-        Y1 += 0.00000000515 * Math.cos(5.86680894517 + 13119.72110282519 * t);
-        Y1 += 0.00000000515 * Math.cos(3.61483236959 + 6675.7019290922 * t);
-        Y1 += 0.00000000407 * Math.cos(5.97123577955 + 3289.33208883739 * t);
-        Y1 += 0.00000000407 * Math.cos(0.15253113909 + 3391.89276456221 * t);
-        Y1 += 0.00000000474 * Math.cos(0.17715160287 + 13892.1406718938 * t);
-        Y1 += 0.00000000385 * Math.cos(5.77663237032 + 10596.1820784342 * t);
-        Y1 += 0.00000000366 * Math.cos(6.20989798780 + 2384.3232707292 * t);
-        Y1 += 0.00000000384 * Math.cos(4.23498307074 + 6685.1061887576 * t);
-        Y1 += 0.00000000425 * Math.cos(1.30634943039 + 11614.4332937322 * t);
-        Y1 += 0.00000000370 * Math.cos(6.07331404337 + 3274.1250177854 * t);
-        Y1 += 0.00000000361 * Math.cos(0.89534079814 + 12721.572099417 * t);
-        Y1 += 0.00000000400 * Math.cos(4.53551800839 + 9588.1255422226 * t);
-        Y1 += 0.00000000360 * Math.cos(0.05053136141 + 3407.0998356142 * t);
-        Y1 += 0.00000000453 * Math.cos(0.52827133920 + 3113.1362939108 * t);
-        Y1 += 0.00000000338 * Math.cos(0.67656842155 + 9380.9596727172 * t);
-        Y1 += 0.00000000337 * Math.cos(3.00609814338 + 15.252471185 * t);
-        Y1 += 0.00000000422 * Math.cos(0.62250110261 + 19513.9835951042 * t);
-        Y1 += 0.00000000353 * Math.cos(2.87159892794 + 20.3553193988 * t);
-        Y1 += 0.00000000373 * Math.cos(4.44069988433 + 10020.8569590312 * t);
-        Y1 += 0.00000000375 * Math.cos(2.90507995378 + 11610.9101753832 * t);
-        Y1 += 0.00000000318 * Math.cos(6.01470564020 + 5724.935697429 * t);
-        Y1 += 0.00000000335 * Math.cos(2.98604214434 + 2938.9403049426 * t);
-        Y1 += 0.00000000374 * Math.cos(2.47243769504 + 3415.3940252671 * t);
-        Y1 += 0.00000000340 * Math.cos(2.07425079531 + 7321.1221397136 * t);
-        Y1 += 0.00000000328 * Math.cos(6.22461934829 + 16460.33352952499 * t);
-        Y1 += 0.00000000369 * Math.cos(2.13551229622 + 14584.2982731206 * t);
-        Y1 += 0.00000000412 * Math.cos(5.59494780647 + 3568.0885594888 * t);
-        Y1 += 0.00000000310 * Math.cos(3.13767541137 + 14421.8316369884 * t);
-        Y1 += 0.00000000330 * Math.cos(0.49540756155 + 3318.7615973734 * t);
-        Y1 += 0.00000000330 * Math.cos(5.62835935709 + 3362.4632560262 * t);
-        Y1 += 0.00000000350 * Math.cos(4.05599588288 + 9602.3526362242 * t);
-        Y1 += 0.00000000329 * Math.cos(3.37223997989 + 10042.6126755918 * t);
-        Y1 += 0.00000000313 * Math.cos(3.98991353862 + 323.5054166574 * t);
-        Y1 += 0.00000000340 * Math.cos(3.21395005886 + 22324.9050567094 * t);
-        Y1 += 0.00000000352 * Math.cos(0.51052280975 + 263.0839233728 * t);
-        Y1 += 0.00000000390 * Math.cos(0.53675687816 + 6717.252720077 * t);
-        Y1 += 0.00000000298 * Math.cos(5.27506560855 + 3416.8784979754 * t);
-        Y1 += 0.00000000387 * Math.cos(3.10555839309 + 7373.3824546264 * t);
-        Y1 += 0.00000000291 * Math.cos(6.25952120602 + 6645.1969867222 * t);
-        Y1 += 0.00000000293 * Math.cos(2.11849465997 + 2675.8563815698 * t);
-        Y1 += 0.00000000346 * Math.cos(3.68559919908 + 3265.8308281325 * t);
-        Y1 += 0.00000000282 * Math.cos(1.51830354780 + 5732.0492444298 * t);
-        Y1 += 0.00000000304 * Math.cos(2.34810025389 + 7203.8022714934 * t);
-        Y1 += 0.00000000280 * Math.cos(0.05535474901 + 3397.5108016354 * t);
-        Y1 += 0.00000000280 * Math.cos(6.06841216963 + 3283.7140517642 * t);
-        Y1 += 0.00000000338 * Math.cos(4.73513321530 + 4459.3682188026 * t);
-        Y1 += 0.00000000280 * Math.cos(1.83816934995 + 6688.2710900976 * t);
-        Y1 += 0.00000000268 * Math.cos(1.68224981136 + 11766.2632645146 * t);
-        Y1 += 0.00000000271 * Math.cos(2.02912231281 + 11780.4903585162 * t);
-        Y1 += 0.00000000363 * Math.cos(1.22201726104 + 10001.061884607 * t);
-        Y1 += 0.00000000265 * Math.cos(1.44919316453 + 7910.1869667218 * t);
-        Y1 += 0.00000000274 * Math.cos(0.01061104159 + 13936.794505134 * t);
-        Y1 += 0.00000000357 * Math.cos(1.63911041022 + 1162.4747044078 * t);
-        Y1 += 0.00000000259 * Math.cos(1.56009469393 + 5032.7780962022 * t);
-        Y1 += 0.00000000253 * Math.cos(0.12054819282 + 17101.2111369072 * t);
-        Y1 += 0.00000000253 * Math.cos(1.95240011543 + 16703.0448798468 * t);
-        Y1 += 0.00000000253 * Math.cos(5.79374784837 + 6947.8318951214 * t);
-        Y1 += 0.00000000278 * Math.cos(4.67472382984 + 7322.1024607818 * t);
-        Y1 += 0.00000000282 * Math.cos(0.09141768691 + 860.3099287528 * t);
-        Y1 += 0.00000000252 * Math.cos(4.72342010347 + 533.2140834436 * t);
-        Y1 += 0.00000000322 * Math.cos(0.95155923546 + 162.4666361322 * t);
-        Y1 += 0.00000000253 * Math.cos(3.98317215792 + 16703.07938715119 * t);
-        Y1 += 0.00000000243 * Math.cos(4.59637992289 + 5244.049239201 * t);
-        Y1 += 0.00000000246 * Math.cos(1.15950003329 + 3304.0070613956 * t);
-        Y1 += 0.00000000246 * Math.cos(4.96426688535 + 3377.217792004 * t);
-        Y1 += 0.00000000246 * Math.cos(2.02033156272 + 16276.463942623 * t);
-        Y1 += 0.00000000235 * Math.cos(4.67612716033 + 16858.4825329332 * t);
-        Y1 += 0.00000000239 * Math.cos(1.58157022935 + 5305.4510535538 * t);
-        Y1 += 0.00000000225 * Math.cos(2.07472210939 + 10018.2468514476 * t);
-        Y1 += 0.00000000248 * Math.cos(2.91218176275 + 2075.0449480734 * t);
-        Y1 += 0.00000000284 * Math.cos(0.56682884608 + 10156.9023601348 * t);
-        Y1 += 0.00000000272 * Math.cos(5.85412476416 + 14712.317116458 * t);
-        Y1 += 0.00000000226 * Math.cos(2.11036808486 + 4039.8835749274 * t);
-        Y1 += 0.00000000243 * Math.cos(5.89092212082 + 30065.5118402982 * t);
-        Y1 += 0.00000000218 * Math.cos(1.77859119613 + 3029.7716278314 * t);
-        Y1 += 0.00000000230 * Math.cos(0.86938411789 + 103.0927742186 * t);
-        Y1 += 0.00000000221 * Math.cos(4.00610570086 + 4005.3684718298 * t);
-        Y1 += 0.00000000216 * Math.cos(2.67268933641 + 15664.03552270859 * t);
-        Y1 += 0.00000000228 * Math.cos(1.42035440998 + 17924.9106998204 * t);
-        Y1 += 0.00000000224 * Math.cos(2.50666934513 + 10025.4277087512 * t);
-        Y1 += 0.00000000216 * Math.cos(4.14679941286 + 10037.0897512844 * t);
-        Y1 += 0.00000000213 * Math.cos(3.70755457019 + 10448.4354709754 * t);
-        Y1 += 0.00000000211 * Math.cos(2.33158804950 + 6944.3087767724 * t);
-        Y1 += 0.00000000215 * Math.cos(2.61875466736 + 3212.5935833624 * t);
-        Y1 += 0.00000000222 * Math.cos(2.20339233927 + 12323.4230960088 * t);
-        Y1 += 0.00000000222 * Math.cos(0.48962551079 + 14314.1681130498 * t);
-        Y1 += 0.00000000288 * Math.cos(1.38313040903 + 16062.1845261168 * t);
-        Y1 += 0.00000000234 * Math.cos(5.47802199777 + 3185.2593375684 * t);
-        Y1 += 0.00000000215 * Math.cos(5.96415874701 + 23.8784377478 * t);
-        Y1 += 0.00000000213 * Math.cos(1.54853404609 + 1545.3539829788 * t);
-        Y1 += 0.00000000201 * Math.cos(5.99546009327 + 1835.3246176068 * t);
-        Y1 += 0.00000000198 * Math.cos(4.93753556250 + 6578.132079181 * t);
-        Y1 += 0.00000000222 * Math.cos(0.61578505780 + 3495.9655158312 * t);
-        Y1 += 0.00000000204 * Math.cos(3.50489963320 + 3468.6312700372 * t);
-        Y1 += 0.00000000213 * Math.cos(5.38883317666 + 7747.7203305896 * t);
-        Y1 += 0.00000000209 * Math.cos(3.74698259846 + 3230.4061054804 * t);
-        Y1 += 0.00000000195 * Math.cos(3.20214800961 + 1903.4368125012 * t);
-        Y1 += 0.00000000193 * Math.cos(4.34393649097 + 3651.4532255682 * t);
-        Y1 += 0.00000000242 * Math.cos(2.25789470004 + 6621.850991486 * t);
-        Y1 += 0.00000000190 * Math.cos(0.52807642845 + 2480.302497947 * t);
-        Y1 += 0.00000000182 * Math.cos(3.98767129842 + 8542.970706035 * t);
-        Y1 += 0.00000000200 * Math.cos(2.50870443352 + 6677.3435180416 * t);
-        Y1 += 0.00000000249 * Math.cos(3.21268045476 + 699.2711482276 * t);
-        Y1 += 0.00000000202 * Math.cos(6.20004176432 + 12012.5822971404 * t);
-        Y1 += 0.00000000205 * Math.cos(6.27860457332 + 2945.9865416406 * t);
-        Y1 += 0.00000000183 * Math.cos(5.82529586360 + 15508.6151232744 * t);
-        Y1 += 0.00000000222 * Math.cos(1.76032428059 + 8982.810669309 * t);
-        Y1 += 0.00000000239 * Math.cos(5.27791146118 + 6106.8800550648 * t);
-        Y1 += 0.00000000200 * Math.cos(1.41969751355 + 10001.48196070061 * t);
-        Y1 += 0.00000000171 * Math.cos(2.86664255530 + 6756.0064519669 * t);
-        Y1 += 0.00000000174 * Math.cos(1.67207569825 + 6418.1409300268 * t);
-        Y1 += 0.00000000182 * Math.cos(5.80987770417 + 6887.4104018368 * t);
-        Y1 += 0.00000000171 * Math.cos(5.86062733644 + 5618.3198048614 * t);
-        Y1 += 0.00000000170 * Math.cos(4.73099425239 + 6456.8800576977 * t);
-        Y1 += 0.00000000168 * Math.cos(6.18245369751 + 13575.7488022372 * t);
-        Y1 += 0.00000000184 * Math.cos(2.36721526307 + 7218.029365495 * t);
-        Y1 += 0.00000000166 * Math.cos(2.25679462872 + 15650.7937503106 * t);
-        Y1 += 0.00000000212 * Math.cos(3.23189207115 + 13363.4300278674 * t);
-        Y1 += 0.00000000169 * Math.cos(5.08935042454 + 2655.5683724738 * t);
-        Y1 += 0.00000000168 * Math.cos(6.08539442812 + 7314.0085927128 * t);
-        Y1 += 0.00000000159 * Math.cos(1.06451661811 + 2008.557539159 * t);
-        Y1 += 0.00000000177 * Math.cos(3.64016669145 + 6686.747777707 * t);
-        Y1 += 0.00000000156 * Math.cos(1.91880783576 + 19402.7969528166 * t);
-        Y1 += 0.00000000192 * Math.cos(1.70878546664 + 2751.5475996916 * t);
-        Y1 += 0.00000000153 * Math.cos(3.28724376065 + 3347.2960905739 * t);
-        Y1 += 0.00000000153 * Math.cos(2.83652315799 + 3333.9287628257 * t);
-        Y1 += 0.00000000154 * Math.cos(0.41279284728 + 3499.555944483 * t);
-        Y1 += 0.00000000169 * Math.cos(0.15684943582 + 19645.5255567906 * t);
-        Y1 += 0.00000000167 * Math.cos(3.08668060635 + 931.3630868518 * t);
-        Y1 += 0.00000000195 * Math.cos(5.14066365776 + 6546.1597733642 * t);
-        Y1 += 0.00000000183 * Math.cos(4.39590374650 + 1332.0548875408 * t);
-        Y1 += 0.00000000186 * Math.cos(1.43141139959 + 4025.6564809258 * t);
-        Y1 += 0.00000000158 * Math.cos(3.03919160267 + 14556.8967170238 * t);
-        Y1 += 0.00000000143 * Math.cos(3.74906711980 + 13553.8979729108 * t);
-        Y1 += 0.00000000171 * Math.cos(2.92431770122 + 1062.9050485382 * t);
-        Y1 += 0.00000000140 * Math.cos(2.99678875427 + 8584.6616659008 * t);
-        Y1 += 0.00000000150 * Math.cos(5.75275864312 + 735.8765135318 * t);
-        Y1 += 0.00000000148 * Math.cos(1.43175701702 + 3053.6500655792 * t);
-        Y1 += 0.00000000189 * Math.cos(2.84693993450 + 2409.249339848 * t);
-        Y1 += 0.00000000140 * Math.cos(5.61689203595 + 6691.8615187494 * t);
-        Y1 += 0.00000000135 * Math.cos(2.53133290785 + 2604.735913168 * t);
-        Y1 += 0.00000000135 * Math.cos(3.59243401079 + 4076.4889402316 * t);
-        Y1 += 0.00000000175 * Math.cos(4.87680231442 + 20.7753954924 * t);
-        Y1 += 0.00000000177 * Math.cos(0.10410066671 + 8958.9322315612 * t);
-        Y1 += 0.00000000178 * Math.cos(3.44819299296 + 2284.7536148596 * t);
-        Y1 += 0.00000000131 * Math.cos(0.64621084098 + 3191.0492295652 * t);
-        Y1 += 0.00000000177 * Math.cos(4.22515628202 + 4672.6673142406 * t);
-        Y1 += 0.00000000131 * Math.cos(2.84299146166 + 11670.2840372968 * t);
-        Y1 += 0.00000000133 * Math.cos(4.52679079571 + 18606.4989460002 * t);
-        Y1 += 0.00000000136 * Math.cos(5.45594231263 + 9374.8264467846 * t);
-        Y1 += 0.00000000133 * Math.cos(5.74550598907 + 5195.2447323344 * t);
-        Y1 += 0.00000000169 * Math.cos(1.71248734234 + 14.2270940016 * t);
-        Y1 += 0.00000000175 * Math.cos(3.29046570107 + 8965.9784682592 * t);
-        Y1 += 0.00000000161 * Math.cos(6.02169024946 + 2494.5295919486 * t);
-        Y1 += 0.00000000138 * Math.cos(6.18657392368 + 20047.1976785478 * t);
-        Y1 += 0.00000000128 * Math.cos(3.58997483094 + 8859.3625756916 * t);
-        Y1 += 0.00000000126 * Math.cos(3.21322516874 + 6148.010769956 * t);
-        Y1 += 0.00000000151 * Math.cos(2.93942995560 + 3077.528503327 * t);
-        Y1 += 0.00000000133 * Math.cos(5.83386254701 + 12839.8722887054 * t);
-        Y1 += 0.00000000137 * Math.cos(4.24430027174 + 6674.1786167016 * t);
-        Y1 += 0.00000000169 * Math.cos(4.97651092293 + 9389.0535407862 * t);
-        Y1 += 0.00000000132 * Math.cos(4.07654693615 + 15265.8865193004 * t);
-        Y1 += 0.00000000165 * Math.cos(3.26928756084 + 19004.6479494084 * t);
-        Y1 += 0.00000000146 * Math.cos(0.52279831791 + 3397.4156888696 * t);
-        Y1 += 0.00000000146 * Math.cos(5.60096860073 + 3283.80916453 * t);
-        Y1 += 0.00000000153 * Math.cos(4.43481405976 + 3929.677253708 * t);
-        Y1 += 0.00000000145 * Math.cos(3.13103384589 + 13745.3462390224 * t);
-        Y1 += 0.00000000133 * Math.cos(4.69278266341 + 3627.57478782039 * t);
-        Y1 += 0.00000000165 * Math.cos(1.99476868352 + 3450.8187479192 * t);
-        Y1 += 0.00000000124 * Math.cos(6.11670347030 + 6593.9166488598 * t);
-        Y1 += 0.00000000123 * Math.cos(0.40352769609 + 1485.9801210652 * t);
-        Y1 += 0.00000000146 * Math.cos(2.76891699205 + 1478.8665740644 * t);
-        Y1 += 0.00000000117 * Math.cos(0.91596190605 + 3337.106562003 * t);
-        Y1 += 0.00000000117 * Math.cos(2.06621235900 + 3344.11829139661 * t);
-        Y1 += 0.00000000120 * Math.cos(0.73600487058 + 14054.607308026 * t);
-        Y1 += 0.00000000147 * Math.cos(1.07606700174 + 6510.5519827804 * t);
-        Y1 += 0.00000000117 * Math.cos(4.09698399049 + 3344.152798701 * t);
-        Y1 += 0.00000000117 * Math.cos(5.16837558174 + 3337.0720546986 * t);
-        Y1 += 0.00000000118 * Math.cos(4.20346162229 + 9886.772200064 * t);
-        Y1 += 0.00000000157 * Math.cos(5.69136299054 + 5820.9149246468 * t);
-        Y1 += 0.00000000158 * Math.cos(4.02596829239 + 1648.4467571974 * t);
-        Y1 += 0.00000000154 * Math.cos(0.46704906665 + 3133.9116894032 * t);
-        Y1 += 0.00000000118 * Math.cos(3.61740536581 + 169.580183133 * t);
-        Y1 += 0.00000000118 * Math.cos(4.79097648197 + 3317.8439300904 * t);
-        Y1 += 0.00000000118 * Math.cos(1.33279043667 + 3363.3809233092 * t);
-        Y1 += 0.00000000117 * Math.cos(1.06179529690 + 3184.2117061974 * t);
-        Y1 += 0.00000000117 * Math.cos(5.06197162174 + 3497.0131472022 * t);
-        Y1 += 0.00000000116 * Math.cos(1.22222105263 + 15906.7641266826 * t);
-        Y1 += 0.00000000115 * Math.cos(1.85848730524 + 6724.9437657046 * t);
-        Y1 += 0.00000000157 * Math.cos(0.17397913596 + 12722.5524204852 * t);
-        Y1 += 0.00000000124 * Math.cos(3.17983191905 + 2631.6226244232 * t);
-        Y1 += 0.00000000135 * Math.cos(3.17789391939 + 3603.6963500726 * t);
-        Y1 += 0.00000000119 * Math.cos(5.17512579994 + 16511.6138673874 * t);
-        Y1 += 0.00000000155 * Math.cos(0.79719420494 + 6155.057006654 * t);
-        Y1 += 0.00000000115 * Math.cos(3.22959858043 + 6997.6167230562 * t);
-        Y1 += 0.00000000111 * Math.cos(6.21075063523 + 87.30820453981 * t);
-        Y1 += 0.00000000111 * Math.cos(6.13183853822 + 9065.5481241288 * t);
-        Y1 += 0.00000000114 * Math.cos(1.52684026531 + 3987.6232600146 * t);
-        Y1 += 0.00000000138 * Math.cos(4.58738400697 + 2233.473621015 * t);
-        Y1 += 0.00000000131 * Math.cos(5.25025552048 + 6901.6374958384 * t);
-        Y1 += 0.00000000145 * Math.cos(1.83381548553 + 0.9803210682 * t);
-        Y1 += 0.00000000119 * Math.cos(3.96125292511 + 1505.28780909299 * t);
-        Y1 += 0.00000000107 * Math.cos(2.70035870913 + 2973.3880977374 * t);
-        Y1 += 0.00000000144 * Math.cos(2.57852789272 + 2060.8178540718 * t);
-        Y1 += 0.00000000111 * Math.cos(2.15559505693 + 6357.7194367422 * t);
-        Y1 += 0.00000000106 * Math.cos(0.16426574878 + 12509.2533250472 * t);
-        Y1 += 0.00000000112 * Math.cos(2.39983700427 + 2574.8193622534 * t);
-        Y1 += 0.00000000139 * Math.cos(5.65976385263 + 3547.3131639964 * t);
-        Y1 += 0.00000000122 * Math.cos(2.84793235795 + 3346.4696289994 * t);
-        Y1 += 0.00000000122 * Math.cos(3.27583456069 + 3334.7552244002 * t);
-        Y1 += 0.00000000105 * Math.cos(2.94616046913 + 10184.3039162316 * t);
-        Y1 += 0.00000000140 * Math.cos(4.52778173929 + 6670.5881880498 * t);
-        Y1 += 0.00000000102 * Math.cos(2.83477159707 + 17468.8551979454 * t);
-        Y1 += 0.00000000099 * Math.cos(1.01104081470 + 17917.79715281959 * t);
-        Y1 += 0.00000000099 * Math.cos(2.31748689016 + 10713.9948813262 * t);
-        Y1 += 0.00000000120 * Math.cos(1.40938335297 + 3370.1042450032 * t);
-        Y1 += 0.00000000120 * Math.cos(4.71438356567 + 3311.1206083964 * t);
-        Y1 += 0.00000000118 * Math.cos(0.83092751777 + 6606.4432548323 * t);
-        Y1 += 0.00000000097 * Math.cos(4.80367378338 + 74.7815985673 * t);
-        Y1 += 0.00000000123 * Math.cos(3.59177506566 + 11925.2740926006 * t);
-        Y1 += 0.00000000129 * Math.cos(1.38615714913 + 7366.2689076256 * t);
-        Y1 += 0.00000000132 * Math.cos(4.17530089524 + 3050.1269472302 * t);
-        Y1 += 0.00000000106 * Math.cos(4.20303552484 + 2641.3412784722 * t);
-        Y1 += 0.00000000101 * Math.cos(2.19730971635 + 10124.930054318 * t);
-        Y1 += 0.00000000126 * Math.cos(1.43242174074 + 7380.4960016272 * t);
-        Y1 += 0.00000000098 * Math.cos(5.71279251280 + 2679.3794999188 * t);
-        Y1 += 0.00000000098 * Math.cos(1.64590778764 + 59.3738619136 * t);
-        Y1 += 0.00000000104 * Math.cos(0.35230601699 + 4296.9015826704 * t);
-        Y1 += 0.00000000115 * Math.cos(2.20406459405 + 11250.7993934216 * t);
-        Y1 += 0.00000000111 * Math.cos(6.00152200950 + 10042.1925994982 * t);
-        Y1 += 0.00000000096 * Math.cos(3.26945343269 + 10006.5848089144 * t);
-        Y1 += 0.00000000093 * Math.cos(3.57205898509 + 316.3918696566 * t);
-        Y1 += 0.00000000108 * Math.cos(6.12508679330 + 3735.238311759 * t);
-        Y1 += 0.00000000093 * Math.cos(4.23458272510 + 3528.5375744624 * t);
-        Y1 += 0.00000000092 * Math.cos(3.39944116355 + 3707.8367556622 * t);
-        Y1 += 0.00000000097 * Math.cos(2.13059348085 + 2922.1081038928 * t);
-        Y1 += 0.00000000127 * Math.cos(3.31567374097 + 4271.9755135516 * t);
-        Y1 += 0.00000000097 * Math.cos(4.65833476763 + 5835.1420186484 * t);
-        Y1 += 0.00000000094 * Math.cos(3.19086921862 + 35464.9814789334 * t);
-        Y1 += 0.00000000113 * Math.cos(1.01321609658 + 5401.4302807716 * t);
-        Y1 += 0.00000000125 * Math.cos(0.05016495563 + 10213.285546211 * t);
-        Y1 += 0.00000000115 * Math.cos(1.94984091716 + 9815.6517316622 * t);
-        Y1 += 0.00000000093 * Math.cos(2.14810622027 + 2771.7905526724 * t);
-        Y1 += 0.00000000115 * Math.cos(4.92888947995 + 21947.11137270 * t);
-        Y1 += 0.00000000102 * Math.cos(3.03180744336 + 4049.6022289764 * t);
-        Y1 += 0.00000000100 * Math.cos(0.08917971251 + 26887.3660497306 * t);
-        Y1 += 0.00000000090 * Math.cos(3.65721451906 + 664.75604513 * t);
-        Y1 += 0.00000000093 * Math.cos(0.23047883797 + 10706.8813343254 * t);
-        Y1 += 0.00000000113 * Math.cos(4.93121887014 + 4922.5717749828 * t);
-        Y1 += 0.00000000094 * Math.cos(3.25068318985 + 1272.6810256272 * t);
-        Y1 += 0.00000000097 * Math.cos(1.89933290057 + 17654.7805397496 * t);
-        Y1 += 0.00000000111 * Math.cos(2.46536345909 + 21795.21409161479 * t);
-        Y1 += 0.00000000087 * Math.cos(4.40897064967 + 2540.7913015344 * t);
-        Y1 += 0.00000000119 * Math.cos(1.94808743738 + 3631.0979061694 * t);
-        Y1 += 0.00000000101 * Math.cos(1.61168636694 + 2171.0241752912 * t);
-        Y1 += 0.00000000117 * Math.cos(4.65224960653 + 1905.4647649404 * t);
-        Y1 += 0.00000000098 * Math.cos(0.70463876405 + 6768.5330579394 * t);
-        Y1 += 0.00000000084 * Math.cos(5.11902672644 + 3152.68727893721 * t);
-        Y1 += 0.00000000084 * Math.cos(4.83188308723 + 11527.1250891924 * t);
-        Y1 += 0.00000000085 * Math.cos(0.07731863530 + 21548.9623692918 * t);
-        Y1 += 0.00000000117 * Math.cos(4.51077566996 + 5518.7501489918 * t);
-        Y1 += 0.00000000083 * Math.cos(3.81620714151 + 22345.2603761082 * t);
-        Y1 += 0.00000000093 * Math.cos(1.26560426088 + 2538.2485042536 * t);
-        Y1 += 0.00000000085 * Math.cos(6.12091736058 + 16489.763038061 * t);
-        Y1 += 0.00000000092 * Math.cos(0.03950789229 + 2277.7073781616 * t);
-        Y1 += 0.00000000085 * Math.cos(5.91600131489 + 18208.349942592 * t);
-        Y1 += 0.00000000094 * Math.cos(4.47767830246 + 12942.965062924 * t);
-        Y1 += 0.00000000107 * Math.cos(0.22163493976 + 6286.5989683404 * t);
-        Y1 += 0.00000000081 * Math.cos(0.50650790580 + 3326.3853326982 * t);
-        Y1 += 0.00000000081 * Math.cos(5.61725901284 + 3354.8395207014 * t);
-        Y1 += 0.00000000079 * Math.cos(1.50975699375 + 4777.7880408984 * t);
-        Y1 += 0.00000000079 * Math.cos(1.00513556613 + 1118.7557921028 * t);
-        Y1 += 0.00000000083 * Math.cos(3.99316690617 + 3759.1167495068 * t);
-        Y1 += 0.00000000093 * Math.cos(3.39442497787 + 685.044054226 * t);
-        Y1 += 0.00000000109 * Math.cos(1.11061888688 + 765.7930644464 * t);
-        Y1 += 0.00000000079 * Math.cos(2.69826809389 + 3378.7454623376 * t);
-        Y1 += 0.00000000079 * Math.cos(3.42549882475 + 3302.479391062 * t);
-        Y1 += 0.00000000079 * Math.cos(1.18088037992 + 9947.0556815321 * t);
-        Y1 += 0.00000000080 * Math.cos(0.54798761722 + 1442.2612087602 * t);
-        Y1 += 0.00000000078 * Math.cos(5.30952786068 + 26357.675084636 * t);
-        Y1 += 0.00000000087 * Math.cos(5.45293469310 + 3181.6689089166 * t);
-        Y1 += 0.00000000106 * Math.cos(5.10677964557 + 7214.4389368432 * t);
-        Y1 += 0.00000000107 * Math.cos(5.78696398530 + 4845.9002357928 * t);
-        Y1 += 0.00000000079 * Math.cos(1.67795651281 + 5562.4690612968 * t);
-        Y1 += 0.00000000096 * Math.cos(1.84507576066 + 11236.57229942 * t);
-        Y1 += 0.00000000083 * Math.cos(3.97986520401 + 42153.969003049 * t);
-        Y1 += 0.00000000079 * Math.cos(5.29007388312 + 1169.5882514086 * t);
-        Y1 += 0.00000000094 * Math.cos(5.43325086005 + 1655.5603041982 * t);
-        Y1 += 0.00000000077 * Math.cos(0.48016044263 + 4001.8453534808 * t);
-        Y1 += 0.00000000103 * Math.cos(3.31518454680 + 6279.5527316424 * t);
-        Y1 += 0.00000000075 * Math.cos(1.36914522483 + 6710.6543619356 * t);
-        Y1 += 0.00000000100 * Math.cos(1.23379947915 + 6653.8232973028 * t);
-        Y1 += 0.00000000085 * Math.cos(3.04492619910 + 3649.8907493556 * t);
-        Y1 += 0.00000000085 * Math.cos(3.07884071954 + 3031.334104044 * t);
-        Y1 += 0.00000000076 * Math.cos(3.19773799012 + 20809.4676246452 * t);
-        Y1 += 0.00000000074 * Math.cos(5.28765123522 + 1107.1388056848 * t);
-        Y1 += 0.00000000077 * Math.cos(3.97237865801 + 3909.4343007272 * t);
-        Y1 += 0.00000000073 * Math.cos(2.57751806041 + 42942.50433914939 * t);
-        Y1 += 0.00000000085 * Math.cos(3.82359953731 + 42146.20633233299 * t);
-        Y1 += 0.00000000102 * Math.cos(3.28709663996 + 3282.733730696 * t);
-        Y1 += 0.00000000102 * Math.cos(2.83667027868 + 3398.4911227036 * t);
-        Y1 += 0.00000000073 * Math.cos(3.23527061256 + 2067.9314010726 * t);
-        Y1 += 0.00000000077 * Math.cos(5.68309610758 + 20199.02764933019 * t);
-        Y1 += 0.00000000072 * Math.cos(1.29867546702 + 20206.141196331 * t);
-        Y1 += 0.00000000082 * Math.cos(3.69322064361 + 20597.2439630412 * t);
-        Y1 += 0.00000000073 * Math.cos(3.78223099359 + 13369.56325380 * t);
-        Y1 += 0.00000000097 * Math.cos(0.21157168319 + 6784.3176276182 * t);
-        Y1 += 0.00000000083 * Math.cos(1.14457241650 + 4447.7512323846 * t);
-        Y1 += 0.00000000092 * Math.cos(0.92188445820 + 3492.509707785 * t);
-        Y1 += 0.00000000076 * Math.cos(1.15437371557 + 19403.7772738848 * t);
-        Y1 += 0.00000000073 * Math.cos(0.71840007075 + 6364.832983743 * t);
-        Y1 += 0.00000000071 * Math.cos(1.82715162268 + 15121.102785216 * t);
-        Y1 += 0.00000000080 * Math.cos(2.74785809382 + 8756.269801473 * t);
-        Y1 += 0.00000000077 * Math.cos(0.86279166830 + 6549.6828917132 * t);
-        Y1 += 0.00000000088 * Math.cos(4.48241968748 + 11883.5831327348 * t);
-        Y1 += 0.00000000074 * Math.cos(4.29411598595 + 2011.1003364398 * t);
-        Y1 += 0.00000000093 * Math.cos(1.79949400982 + 10050.2864675672 * t);
-        Y1 += 0.00000000069 * Math.cos(4.46882579153 + 1279.794572628 * t);
-        Y1 += 0.00000000081 * Math.cos(3.29992061540 + 15636.566656309 * t);
-        Y1 += 0.00000000068 * Math.cos(3.31942545345 + 4106.4054911462 * t);
-        Y1 += 0.00000000075 * Math.cos(1.30266865618 + 7447.017917846 * t);
-        Y1 += 0.00000000077 * Math.cos(5.18502579516 + 5466.489834079 * t);
-        Y1 += 0.00000000079 * Math.cos(6.08882534383 + 3329.5667264359 * t);
-        Y1 += 0.00000000079 * Math.cos(0.03494157481 + 3351.6581269637 * t);
-        Y1 += 0.00000000075 * Math.cos(2.41908956194 + 32124.36905223359 * t);
-        Y1 += 0.00000000074 * Math.cos(2.64861748980 + 25135.8265183146 * t);
-        Y1 += 0.00000000069 * Math.cos(3.47699248800 + 11353.8921676402 * t);
-        Y1 += 0.00000000087 * Math.cos(1.38741665452 + 43340.6533425576 * t);
-        Y1 += 0.00000000066 * Math.cos(6.18253618298 + 13517.8027959306 * t);
-        Y1 += 0.00000000072 * Math.cos(5.32558972032 + 25287.7237993998 * t);
-        Y1 += 0.00000000085 * Math.cos(0.02377577064 + 1854.6323056346 * t);
-        Y1 += 0.00000000088 * Math.cos(1.52868546432 + 3067.9394693482 * t);
-        Y1 += 0.00000000075 * Math.cos(2.26613010488 + 15110.4661198662 * t);
-        Y1 += 0.00000000069 * Math.cos(0.02278259907 + 43738.8023459658 * t);
-        Y1 += 0.00000000078 * Math.cos(5.07801637655 + 34363.365597556 * t);
-        Y1 += 0.00000000082 * Math.cos(1.79056505886 + 4885.9664096786 * t);
-        Y1 += 0.00000000065 * Math.cos(5.47583793528 + 6708.6264094964 * t);
-        Y1 += 0.00000000070 * Math.cos(0.39852574719 + 12725.453434775 * t);
-        Y1 += 0.00000000090 * Math.cos(3.58467854106 + 6740.5987153132 * t);
-        Y1 += 0.00000000065 * Math.cos(4.81926081363 + 4140.4335518652 * t);
-        Y1 += 0.00000000064 * Math.cos(2.78199198599 + 9801.4246376606 * t);
-        Y1 += 0.00000000087 * Math.cos(3.48209962852 + 9859.3706439672 * t);
-        Y1 += 0.00000000070 * Math.cos(5.58621397360 + 35707.7100829074 * t);
-        Y1 += 0.00000000084 * Math.cos(4.62280003448 + 3613.2853840514 * t);
-        Y1 += 0.00000000084 * Math.cos(3.13048289620 + 5202.3582793352 * t);
-        Y1 += 0.00000000065 * Math.cos(5.65188017283 + 6680.804777306 * t);
-        Y1 += 0.00000000074 * Math.cos(0.70811376982 + 19800.9459562248 * t);
-        Y1 += 0.00000000066 * Math.cos(5.79488701874 + 3414.213382615 * t);
-        Y1 += 0.00000000066 * Math.cos(0.32887989990 + 3267.0114707846 * t);
-        Y1 += 0.00000000064 * Math.cos(5.41618225042 + 3193.8007401762 * t);
-        Y1 += 0.00000000064 * Math.cos(0.70758466822 + 3487.4241132234 * t);
-        Y1 += 0.00000000080 * Math.cos(5.83125066323 + 9175.7544453482 * t);
-        Y1 += 0.00000000069 * Math.cos(0.45288984585 + 10177.1903692308 * t);
-        Y1 += 0.00000000078 * Math.cos(2.47729712704 + 14128.2427712456 * t);
-        Y1 += 0.00000000068 * Math.cos(3.28509813085 + 12808.8803039568 * t);
-        Y1 += 0.00000000068 * Math.cos(0.42906740811 + 6614.7374444852 * t);
-        Y1 += 0.00000000062 * Math.cos(1.67556973000 + 18461.71521191579 * t);
-        Y1 += 0.00000000073 * Math.cos(4.93443664690 + 10730.82708237599 * t);
-        Y1 += 0.00000000066 * Math.cos(4.71978579468 + 9997.9588423516 * t);
-        Y1 += 0.00000000062 * Math.cos(1.47129847545 + 18451.07854656599 * t);
-        Y1 += 0.00000000064 * Math.cos(4.43457293456 + 40796.33892267419 * t);
-        Y1 += 0.00000000078 * Math.cos(4.80114448945 + 35309.5610794992 * t);
-        Y1 += 0.00000000062 * Math.cos(0.61927789333 + 20040.15144184979 * t);
-        Y1 += 0.00000000064 * Math.cos(2.03965634077 + 10787.6303445458 * t);
-        Y1 += 0.00000000069 * Math.cos(0.35279777025 + 16858.41522263039 * t);
-        Y1 += 0.00000000075 * Math.cos(5.80439292359 + 40398.189919266 * t);
-        Y1 += 0.00000000078 * Math.cos(5.47505498554 + 14867.73751589219 * t);
-        Y1 += 0.00000000062 * Math.cos(4.44452076035 + 799.8211251654 * t);
-        Y1 += 0.00000000063 * Math.cos(6.28310501390 + 20742.9457084264 * t);
-        Y1 += 0.00000000061 * Math.cos(1.46903295029 + 14591.4118201214 * t);
-        Y1 += 0.00000000060 * Math.cos(4.02422394326 + 10016.314355792 * t);
-        Y1 += 0.00000000069 * Math.cos(0.07133537091 + 10721.108428327 * t);
-        Y1 += 0.00000000063 * Math.cos(0.32856760942 + 12082.6551341712 * t);
-        Y1 += 0.00000000061 * Math.cos(0.87700826571 + 36.6053653042 * t);
-        Y1 += 0.00000000080 * Math.cos(3.82715184041 + 12168.0026965746 * t);
-        Y1 += 0.00000000068 * Math.cos(4.35850169699 + 8186.5126624926 * t);
-        Y1 += 0.00000000067 * Math.cos(3.09157172324 + 9329.6796788726 * t);
-        Y1 += 0.00000000064 * Math.cos(5.61072669942 + 5223.6939198022 * t);
-        Y1 += 0.00000000064 * Math.cos(1.96539963912 + 7799.9806455024 * t);
-        Y1 += 0.00000000058 * Math.cos(5.32198378648 + 41748.0573289248 * t);
-        Y1 += 0.00000000078 * Math.cos(1.64083896570 + 24606.13555322 * t);
-        Y1 += 0.00000000057 * Math.cos(4.85968404475 + 12928.7379689224 * t);
-        Y1 += 0.00000000080 * Math.cos(0.99981693234 + 27417.0570148252 * t);
-        Y1 += 0.00000000072 * Math.cos(0.47301045978 + 24889.5747959916 * t);
-        Y1 += 0.00000000080 * Math.cos(1.29024393938 + 14047.4937610252 * t);
-        Y1 += 0.00000000062 * Math.cos(2.85518372165 + 12988.111830836 * t);
-        Y1 += 0.00000000067 * Math.cos(3.88281422282 + 41427.4869831788 * t);
-        Y1 += 0.00000000057 * Math.cos(1.87370499430 + 24491.4257925834 * t);
-        Y1 += 0.00000000059 * Math.cos(0.42163716106 + 5945.3483398678 * t);
-        Y1 += 0.00000000074 * Math.cos(1.15958679714 + 17395.2197347258 * t);
-        Y1 += 0.00000000057 * Math.cos(2.71055933927 + 42544.3553357412 * t);
-        Y1 += 0.00000000070 * Math.cos(1.62633648043 + 21265.5231265202 * t);
-        Y1 += 0.00000000058 * Math.cos(4.86596352164 + 15423.267560871 * t);
-        Y1 += 0.00000000062 * Math.cos(1.39408141536 + 3357.44462774959 * t);
-        Y1 += 0.00000000062 * Math.cos(4.72968550328 + 3323.78022565 * t);
-        Y1 += 0.00000000056 * Math.cos(1.12816132291 + 16063.164847185 * t);
-        Y1 += 0.00000000056 * Math.cos(1.61217428661 + 2978.491289969 * t);
-        Y1 += 0.00000000056 * Math.cos(4.51159263204 + 3702.7335634306 * t);
-        Y1 += 0.00000000058 * Math.cos(1.36447893952 + 8226.5788363784 * t);
-        Y1 += 0.00000000055 * Math.cos(3.98578162953 + 12715.4388734844 * t);
-        Y1 += 0.00000000054 * Math.cos(2.71910253259 + 5607.6158292088 * t);
-        Y1 += 0.00000000073 * Math.cos(1.42919585711 + 4775.7600884592 * t);
-        Y1 += 0.00000000053 * Math.cos(3.09693738935 + 6788.8883773382 * t);
-        Y1 += 0.00000000058 * Math.cos(0.22442483444 + 3412.6681600546 * t);
-        Y1 += 0.00000000058 * Math.cos(5.89934208420 + 3268.556693345 * t);
-        Y1 += 0.00000000053 * Math.cos(2.19689791795 + 14481.205498902 * t);
-        Y1 += 0.00000000053 * Math.cos(0.15615144357 + 25841.29320224219 * t);
-        Y1 += 0.00000000052 * Math.cos(3.15010220845 + 6812.766815086 * t);
-        Y1 += 0.00000000053 * Math.cos(1.40676144190 + 2391.43681773 * t);
-        Y1 += 0.00000000053 * Math.cos(0.46935053804 + 44959.5476759902 * t);
-        Y1 += 0.00000000054 * Math.cos(5.80670820759 + 18849.2275499742 * t);
-        Y1 += 0.00000000052 * Math.cos(4.45343178668 + 45884.967762441 * t);
-        Y1 += 0.00000000057 * Math.cos(2.86057303027 + 5408.5438277724 * t);
-        Y1 += 0.00000000053 * Math.cos(2.93504488248 + 37895.4262903674 * t);
-        Y1 += 0.00000000072 * Math.cos(1.04870110960 + 3339.1279539915 * t);
-        Y1 += 0.00000000072 * Math.cos(5.07506580904 + 3342.0968994081 * t);
-        Y1 += 0.00000000056 * Math.cos(5.29729400428 + 17660.303464057 * t);
-        Y1 += 0.00000000054 * Math.cos(5.90243120665 + 13532.0298899322 * t);
-        Y1 += 0.00000000060 * Math.cos(1.10585615388 + 5511.636601991 * t);
-        Y1 += 0.00000000052 * Math.cos(1.45564798177 + 22487.3716928416 * t);
-        Y1 += 0.00000000055 * Math.cos(5.86720570151 + 3344.2028553516 * t);
-        Y1 += 0.00000000051 * Math.cos(4.59732093524 + 12410.7313005486 * t);
-        Y1 += 0.00000000054 * Math.cos(1.41387939355 + 21150.8133658836 * t);
-        Y1 += 0.00000000070 * Math.cos(6.26592499392 + 40000.04091585779 * t);
-        Y1 += 0.00000000058 * Math.cos(1.90611100788 + 29580.05463235019 * t);
-        Y1 += 0.00000000054 * Math.cos(2.06257459061 + 2735.762685995 * t);
-        Y1 += 0.00000000056 * Math.cos(5.51147391507 + 23539.7073863328 * t);
-        Y1 += 0.00000000049 * Math.cos(6.08800383828 + 16865.5287696312 * t);
-        Y1 += 0.00000000061 * Math.cos(2.80664860295 + 2655.501062171 * t);
-        Y1 += 0.00000000050 * Math.cos(0.09542687607 + 1727.6610936682 * t);
-        Y1 += 0.00000000059 * Math.cos(4.25647242104 + 12516.366872048 * t);
-        Y1 += 0.00000000050 * Math.cos(1.70549407364 + 3564.9572224017 * t);
-        Y1 += 0.00000000049 * Math.cos(1.47890962284 + 55516.4187098482 * t);
-        Y1 += 0.00000000056 * Math.cos(1.83267921871 + 16328.72425753579 * t);
-        Y1 += 0.00000000050 * Math.cos(6.13050078847 + 44768.0994098786 * t);
-        Y1 += 0.00000000050 * Math.cos(2.19360927774 + 3742.284548457 * t);
-        Y1 += 0.00000000048 * Math.cos(3.12373703961 + 1883.0814931024 * t);
-        Y1 += 0.00000000068 * Math.cos(5.14882675659 + 4142.976349146 * t);
-        Y1 += 0.00000000059 * Math.cos(4.61160954089 + 4356.275444584 * t);
-        Y1 += 0.00000000061 * Math.cos(2.37259677368 + 19617.07636932279 * t);
-        Y1 += 0.00000000048 * Math.cos(6.23507805833 + 19190.4781784468 * t);
-        Y1 += 0.00000000055 * Math.cos(1.90836976863 + 1971.9521738548 * t);
-        Y1 += 0.00000000065 * Math.cos(5.33022366023 + 20213.25474333179 * t);
-        Y1 += 0.00000000054 * Math.cos(6.06383097361 + 20426.571092422 * t);
-        Y1 += 0.00000000051 * Math.cos(3.13636139120 + 5749.8617665478 * t);
-        Y1 += 0.00000000058 * Math.cos(1.55579966471 + 1015.6630178842 * t);
-        Y1 += 0.00000000053 * Math.cos(6.07174122305 + 38086.874556479 * t);
-        Y1 += 0.00000000048 * Math.cos(6.09265191924 + 24341.5283174566 * t);
-        Y1 += 0.00000000048 * Math.cos(1.37017477535 + 846.0828347512 * t);
-        Y1 += 0.00000000047 * Math.cos(5.48131029950 + 11876.469585734 * t);
-        Y1 += 0.00000000047 * Math.cos(4.23447844874 + 2257.3520587628 * t);
-        Y1 += 0.00000000048 * Math.cos(0.75363318363 + 3264.3463554242 * t);
-        Y1 += 0.00000000064 * Math.cos(1.47602449306 + 1329.51209026 * t);
-        Y1 += 0.00000000046 * Math.cos(4.98949021014 + 1795.258443721 * t);
-        Y1 += 0.00000000055 * Math.cos(2.47607337246 + 4403.517475238 * t);
-        Y1 += 0.00000000048 * Math.cos(5.05047802604 + 14955.045720432 * t);
-        Y1 += 0.00000000059 * Math.cos(0.56447699816 + 4289.7880356696 * t);
-        Y1 += 0.00000000048 * Math.cos(5.64269937258 + 1859.2030553546 * t);
-        Y1 += 0.00000000052 * Math.cos(3.85502826049 + 32765.2466596158 * t);
-        Y1 += 0.00000000052 * Math.cos(0.60554758880 + 2963.238818784 * t);
-        Y1 += 0.00000000052 * Math.cos(5.51821932984 + 3717.9860346156 * t);
-        Y1 += 0.00000000054 * Math.cos(5.75638873525 + 1055.8588118402 * t);
-        Y1 += 0.00000000045 * Math.cos(1.58216758277 + 3973.396166013 * t);
-        Y1 += 0.00000000060 * Math.cos(3.26313473570 + 46283.11676584919 * t);
-        Y1 += 0.00000000049 * Math.cos(2.80004822014 + 31214.2014369678 * t);
-        Y1 += 0.00000000044 * Math.cos(0.54252101929 + 14469.588512484 * t);
-        Y1 += 0.00000000046 * Math.cos(4.82251602641 + 5881.4037282342 * t);
-        Y1 += 0.00000000044 * Math.cos(0.39621574967 + 14061.7208550268 * t);
-        Y1 += 0.00000000044 * Math.cos(4.23848711560 + 3436.5916539176 * t);
-        Y1 += 0.00000000044 * Math.cos(1.88527980304 + 3244.633199482 * t);
-        Y1 += 0.00000000045 * Math.cos(3.09899613679 + 1265.5674786264 * t);
-        Y1 += 0.00000000044 * Math.cos(4.49857181022 + 17499.3601403154 * t);
-        Y1 += 0.00000000058 * Math.cos(3.38424006936 + 5625.3660415594 * t);
-        Y1 += 0.00000000045 * Math.cos(4.80756715462 + 39048.3225096072 * t);
-        Y1 += 0.00000000043 * Math.cos(1.18491417532 + 97670.38771289718 * t);
-        Y1 += 0.00000000046 * Math.cos(3.97050301429 + 18052.9295431578 * t);
-        Y1 += 0.00000000059 * Math.cos(3.54996675378 + 2523.9591004846 * t);
-        Y1 += 0.00000000053 * Math.cos(5.27381050235 + 8336.7851575978 * t);
-        Y1 += 0.00000000048 * Math.cos(4.20516196539 + 2125.8100970764 * t);
-        Y1 += 0.00000000043 * Math.cos(3.74169704813 + 12199.9750023914 * t);
-        Y1 += 0.00000000043 * Math.cos(1.95551974467 + 15106.8756912144 * t);
-        Y1 += 0.00000000042 * Math.cos(4.34126456452 + 12729.665967486 * t);
-        Y1 += 0.00000000043 * Math.cos(0.33738122272 + 8123.4860621598 * t);
-        Y1 += 0.00000000046 * Math.cos(0.42675039162 + 2324.9494088156 * t);
-        Y1 += 0.00000000043 * Math.cos(4.93866317055 + 3826.5844794894 * t);
-        Y1 += 0.00000000043 * Math.cos(1.18510374809 + 2854.6403739102 * t);
-        Y1 += 0.00000000049 * Math.cos(5.73530227247 + 15849.865751747 * t);
-        Y1 += 0.00000000045 * Math.cos(0.86869575514 + 28230.18722269139 * t);
-        Y1 += 0.00000000042 * Math.cos(5.52275728942 + 2651.977943822 * t);
-        Y1 += 0.00000000048 * Math.cos(0.38320382112 + 12825.6451947038 * t);
-        Y1 += 0.00000000052 * Math.cos(4.39773367298 + 6666.997759398 * t);
-        Y1 += 0.00000000041 * Math.cos(5.43225265078 + 3385.26625994 * t);
-        Y1 += 0.00000000041 * Math.cos(0.69151426786 + 3295.9585934596 * t);
-        Y1 += 0.00000000050 * Math.cos(5.89153916228 + 7788.3636590844 * t);
-        Y1 += 0.00000000045 * Math.cos(4.22332404514 + 3116.2676309979 * t);
-        Y1 += 0.00000000048 * Math.cos(3.25825537595 + 39601.8919124496 * t);
-        Y1 += 0.00000000040 * Math.cos(1.42664872496 + 26239.44220565039 * t);
-        Y1 += 0.00000000043 * Math.cos(1.84674416334 + 46681.2657692574 * t);
-        Y1 += 0.00000000040 * Math.cos(1.11930161769 + 14577.1847261198 * t);
-        Y1 += 0.00000000040 * Math.cos(4.72158737154 + 2814.4445799542 * t);
-        Y1 += 0.00000000040 * Math.cos(0.36674922708 + 20728.71861442479 * t);
-        Y1 += 0.00000000041 * Math.cos(1.94224224037 + 4670.1245169598 * t);
-        Y1 += 0.00000000052 * Math.cos(3.29121165005 + 3382.1632176846 * t);
-        Y1 += 0.00000000052 * Math.cos(2.83255526859 + 3299.061635715 * t);
-        Y1 += 0.00000000044 * Math.cos(5.64683761753 + 29698.2875113358 * t);
-        Y1 += 0.00000000041 * Math.cos(5.62926912301 + 30220.9322397324 * t);
-        Y1 += 0.00000000042 * Math.cos(0.62187667623 + 24076.4445881254 * t);
-        Y1 += 0.00000000046 * Math.cos(2.01012132100 + 19247.3765533824 * t);
-        Y1 += 0.00000000039 * Math.cos(3.61794457591 + 27433.88921587499 * t);
-        Y1 += 0.00000000045 * Math.cos(6.00306408589 + 227.476132789 * t);
-        Y1 += 0.00000000047 * Math.cos(2.23693969795 + 27832.0382192832 * t);
-        Y1 += 0.00000000039 * Math.cos(2.09880635074 + 742.9900605326 * t);
-        Y1 += 0.00000000042 * Math.cos(0.41661355281 + 10191.4174632324 * t);
-        Y1 += 0.00000000049 * Math.cos(3.31862583605 + 4025.7237912286 * t);
-        Y1 += 0.00000000039 * Math.cos(1.23955681764 + 33163.395663024 * t);
-        Y1 += 0.00000000040 * Math.cos(0.83205528677 + 38252.0245027908 * t);
-        Y1 += 0.00000000051 * Math.cos(1.01939482770 + 17810.2009391838 * t);
-        Y1 += 0.00000000052 * Math.cos(0.78418608920 + 1461.0540519464 * t);
-        Y1 += 0.00000000045 * Math.cos(5.86462836257 + 3966.2826190122 * t);
-        Y1 += 0.00000000045 * Math.cos(0.25913855607 + 2714.9422343874 * t);
-        Y1 += 0.00000000039 * Math.cos(1.82873904075 + 2714.9872905026 * t);
-        Y1 += 0.00000000043 * Math.cos(4.46734154880 + 48835.19385644859 * t);
-        Y1 += 0.00000000038 * Math.cos(2.82290648987 + 41194.4879260824 * t);
-        Y1 += 0.00000000042 * Math.cos(3.18950244700 + 24093.2767891752 * t);
-        Y1 += 0.00000000045 * Math.cos(5.90009306113 + 33716.9650658664 * t);
-        Y1 += 0.00000000038 * Math.cos(4.52300714521 + 8742.0427074714 * t);
-        Y1 += 0.00000000040 * Math.cos(4.06041894809 + 3945.4621674046 * t);
-        Y1 += 0.00000000041 * Math.cos(3.68161811197 + 17013.9029323674 * t);
-        Y1 += 0.00000000037 * Math.cos(2.53315491999 + 3017.1070100424 * t);
-        Y1 += 0.00000000043 * Math.cos(0.40070595587 + 16872.642316632 * t);
-        Y1 += 0.00000000037 * Math.cos(2.86323683483 + 36261.2794857498 * t);
-        Y1 += 0.00000000037 * Math.cos(0.04021979736 + 48827.4311857326 * t);
-        Y1 += 0.00000000038 * Math.cos(4.60085089797 + 1484.9324896942 * t);
-        Y1 += 0.00000000036 * Math.cos(5.58209344400 + 2089.782230399 * t);
-        Y1 += 0.00000000050 * Math.cos(2.20944186253 + 526.1678467456 * t);
-        Y1 += 0.00000000036 * Math.cos(5.37022099013 + 19676.4502312364 * t);
-        Y1 += 0.00000000037 * Math.cos(0.66378563362 + 9384.8410080752 * t);
-        Y1 += 0.00000000047 * Math.cos(5.53299461316 + 21000.9158907568 * t);
-        Y1 += 0.00000000047 * Math.cos(1.09162082178 + 20735.83216142559 * t);
-        Y1 += 0.00000000036 * Math.cos(0.66244555675 + 3762.6398678558 * t);
-        Y1 += 0.00000000036 * Math.cos(5.46132136189 + 2918.5849855438 * t);
-        Y1 += 0.00000000037 * Math.cos(5.70989317039 + 20995.3929664494 * t);
-        Y1 += 0.00000000036 * Math.cos(6.05334429212 + 27682.1407441564 * t);
-        Y1 += 0.00000000038 * Math.cos(5.25536340407 + 28628.3362260996 * t);
-        Y1 += 0.00000000036 * Math.cos(1.21817478744 + 4555.4147563232 * t);
-        Y1 += 0.00000000047 * Math.cos(4.16379978009 + 8013.2797409404 * t);
-        Y1 += 0.00000000039 * Math.cos(2.83792055047 + 3337.1566186536 * t);
-        Y1 += 0.00000000039 * Math.cos(0.14425371458 + 3344.068234746 * t);
-        Y1 += 0.00000000035 * Math.cos(1.41870103931 + 1685.0521225016 * t);
-        Y1 += 0.00000000042 * Math.cos(1.18769542614 + 20235.1228263104 * t);
-        Y1 += 0.00000000038 * Math.cos(5.58692016360 + 3070.482266629 * t);
-        Y1 += 0.00000000038 * Math.cos(0.53684675504 + 3610.7425867706 * t);
-        Y1 += 0.00000000035 * Math.cos(4.99234317683 + 4716.3862265456 * t);
-        Y1 += 0.00000000036 * Math.cos(2.14857050891 + 6644.6194880954 * t);
-        Y1 += 0.00000000047 * Math.cos(5.94900036662 + 45088.6697556246 * t);
-        Y1 += 0.00000000034 * Math.cos(3.27231840809 + 29181.905628942 * t);
-        Y1 += 0.00000000034 * Math.cos(6.09046934997 + 21.8508293264 * t);
-        Y1 += 0.00000000035 * Math.cos(3.09787661627 + 15010.8964639966 * t);
-        Y1 += 0.00000000040 * Math.cos(4.30328275800 + 52175.8062831484 * t);
-        Y1 += 0.00000000034 * Math.cos(1.84414035522 + 13355.3361597984 * t);
-        Y1 += 0.00000000034 * Math.cos(1.39702945228 + 6836.577942531 * t);
-        Y1 += 0.00000000039 * Math.cos(1.98242424074 + 11567.1912630782 * t);
-        Y1 += 0.00000000034 * Math.cos(4.53674484583 + 3370.49447031 * t);
-        Y1 += 0.00000000034 * Math.cos(1.58702207281 + 3310.7303830896 * t);
-        Y1 += 0.00000000034 * Math.cos(1.21354379250 + 23937.856389741 * t);
-        Y1 += 0.00000000041 * Math.cos(6.10721750623 + 11128.9760857842 * t);
-        Y1 += 0.00000000033 * Math.cos(4.73943199387 + 12502.1397780464 * t);
-        Y1 += 0.00000000038 * Math.cos(4.44432609762 + 34115.1140692746 * t);
-        Y1 += 0.00000000034 * Math.cos(2.89935386730 + 7483.5887758458 * t);
-        Y1 += 0.00000000034 * Math.cos(0.03045529516 + 16702.9948231962 * t);
-        Y1 += 0.00000000040 * Math.cos(2.64332877474 + 6850.8050365326 * t);
-        Y1 += 0.00000000033 * Math.cos(5.97008603930 + 3723.4917052708 * t);
-        Y1 += 0.00000000033 * Math.cos(0.15368087934 + 2957.7331481288 * t);
-        Y1 += 0.00000000033 * Math.cos(2.74215617399 + 14164.8136292454 * t);
-        Y1 += 0.00000000033 * Math.cos(4.89399844372 + 37455.7264959744 * t);
-        Y1 += 0.00000000045 * Math.cos(2.57456746730 + 4157.26575291499 * t);
-        Y1 += 0.00000000035 * Math.cos(0.70040109787 + 17932.0242468212 * t);
-        Y1 += 0.00000000032 * Math.cos(1.88677077871 + 4423.8727946368 * t);
-        Y1 += 0.00000000032 * Math.cos(3.30721989272 + 5415.6573747732 * t);
-        Y1 += 0.00000000032 * Math.cos(3.90121054115 + 20354.5153590672 * t);
-        Y1 += 0.00000000032 * Math.cos(2.99569421537 + 1197.9701285736 * t);
-        Y1 += 0.00000000032 * Math.cos(3.04108622570 + 36105.8590863156 * t);
-        Y1 += 0.00000000032 * Math.cos(0.60384612281 + 4029.2469095776 * t);
-        Y1 += 0.00000000034 * Math.cos(4.21263525801 + 3337.021998048 * t);
-        Y1 += 0.00000000042 * Math.cos(2.22648780153 + 12979.553174576 * t);
-        Y1 += 0.00000000033 * Math.cos(1.19151639747 + 16342.9513515374 * t);
-        Y1 += 0.00000000031 * Math.cos(2.01995732343 + 3101.4069410748 * t);
-        Y1 += 0.00000000031 * Math.cos(4.10380959521 + 3579.8179123248 * t);
-        Y1 += 0.00000000032 * Math.cos(2.71500667131 + 41236.0387170672 * t);
-        Y1 += 0.00000000033 * Math.cos(6.17834375458 + 4953.5637597314 * t);
-        Y1 += 0.00000000033 * Math.cos(2.25400995114 + 24532.9765835682 * t);
-        Y1 += 0.00000000031 * Math.cos(0.50017802841 + 13605.1783107732 * t);
-        Y1 += 0.00000000038 * Math.cos(4.78366250308 + 5351.7127631396 * t);
-        Y1 += 0.00000000035 * Math.cos(4.91227370595 + 27035.7402124668 * t);
-        Y1 += 0.00000000030 * Math.cos(1.87215947062 + 32769.1279949738 * t);
-        Y1 += 0.00000000030 * Math.cos(4.83793546724 + 9918.7445058808 * t);
-        Y1 += 0.00000000039 * Math.cos(5.08918951879 + 49225.5801891408 * t);
-        Y1 += 0.00000000040 * Math.cos(3.07330295310 + 3524.48201360179 * t);
-        Y1 += 0.00000000040 * Math.cos(3.05046396554 + 3156.7428397978 * t);
-        Y1 += 0.00000000033 * Math.cos(5.50115850078 + 19956.366355659 * t);
-        Y1 += 0.00000000030 * Math.cos(4.31368171539 + 3966.237562897 * t);
-        Y1 += 0.00000000029 * Math.cos(5.37757078512 + 30376.3526391666 * t);
-        Y1 += 0.00000000031 * Math.cos(1.71406884029 + 9072.6616711296 * t);
-        Y1 += 0.00000000029 * Math.cos(3.01545415354 + 26880.3198130326 * t);
-        Y1 += 0.00000000030 * Math.cos(0.63974818582 + 17232.7530985936 * t);
-        Y1 += 0.00000000030 * Math.cos(0.47691051204 + 4822.021798045 * t);
-        Y1 += 0.00000000032 * Math.cos(3.38388067312 + 4503.0871311076 * t);
-        Y1 += 0.00000000032 * Math.cos(3.17796658527 + 33561.5446664322 * t);
-        Y1 += 0.00000000030 * Math.cos(1.29590585399 + 12995.2253778368 * t);
-        Y1 += 0.00000000035 * Math.cos(6.27959027284 + 23017.0626579362 * t);
-        Y1 += 0.00000000032 * Math.cos(5.84436620819 + 6830.7880505342 * t);
-        Y1 += 0.00000000035 * Math.cos(2.04350169558 + 3303.6168360888 * t);
-        Y1 += 0.00000000035 * Math.cos(4.08026522307 + 3377.6080173108 * t);
-        Y1 += 0.00000000028 * Math.cos(3.36920945356 + 38813.3565763492 * t);
-        Y1 += 0.00000000037 * Math.cos(5.53201883072 + 45486.81875903279 * t);
-        Y1 += 0.00000000028 * Math.cos(3.89264354896 + 3348.3750974158 * t);
-        Y1 += 0.00000000028 * Math.cos(2.23112336968 + 3332.8497559838 * t);
-        Y1 += 0.00000000032 * Math.cos(1.38638703068 + 36659.428489158 * t);
-        Y1 += 0.00000000028 * Math.cos(3.90155339567 + 7345.9808985296 * t);
-        Y1 += 0.00000000029 * Math.cos(0.33271254369 + 41990.7859328988 * t);
-        Y1 += 0.00000000027 * Math.cos(0.95617807815 + 7534.4212351516 * t);
-        Y1 += 0.00000000029 * Math.cos(0.58910694177 + 33318.8160624582 * t);
-        Y1 += 0.00000000028 * Math.cos(0.45077221068 + 3517.3061568336 * t);
-        Y1 += 0.00000000028 * Math.cos(5.67299470796 + 3163.918696566 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 384 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 -= 0.00035396765;
-        Y2 += 0.00021950759 * Math.cos(1.96291594946 + 6681.2248533996 * t);
-        Y2 += 0.00006075990 * Math.cos(2.35864321001 + 10021.8372800994 * t);
-        Y2 += 0.00002571425 * Math.cos(5.64795745327 + 3340.6124266998 * t);
-        Y2 += 0.00001129099 * Math.cos(2.71576248963 + 13362.4497067992 * t);
-        Y2 += 0.00000182443 * Math.cos(3.06335050462 + 16703.062133499 * t);
-        Y2 += 0.00000168357 * Math.cos(3.01017878073 + 3337.0893083508 * t);
-        Y2 += 0.00000167747 * Math.cos(3.10922702911 + 3344.1355450488 * t);
-        Y2 += 0.00000093890 * Math.cos(5.65913038458 + 3185.1920272656 * t);
-        Y2 += 0.00000089244 * Math.cos(0.46137270696 + 3496.032826134 * t);
-        Y2 += 0.00000040563 * Math.cos(3.45931070999 + 6684.7479717486 * t);
-        Y2 += 0.00000036611 * Math.cos(0.19723333298 + 1059.3819301892 * t);
-        Y2 += 0.00000027526 * Math.cos(3.40697584132 + 20043.6745601988 * t);
-        Y2 += 0.00000024574 * Math.cos(2.05709261735 + 3149.1641605882 * t);
-        Y2 += 0.00000023302 * Math.cos(4.06054703458 + 3532.0606928114 * t);
-        Y2 += 0.00000024401 * Math.cos(4.20197858679 + 2544.3144198834 * t);
-        Y2 += 0.00000020299 * Math.cos(1.91147990337 + 4136.9104335162 * t);
-        Y2 += 0.00000018006 * Math.cos(1.85198728948 + 3097.88382272579 * t);
-        Y2 += 0.00000017221 * Math.cos(2.74161867582 + 2942.4634232916 * t);
-        Y2 += 0.00000016902 * Math.cos(4.25136186320 + 3583.3410306738 * t);
-        Y2 += 0.00000015777 * Math.cos(5.91718781131 + 5621.8429232104 * t);
-        Y2 += 0.00000015856 * Math.cos(0.06841918410 + 1194.4470102246 * t);
-        Y2 += 0.00000015264 * Math.cos(3.35254931189 + 3738.761430108 * t);
-        Y2 += 0.00000013171 * Math.cos(3.57877335400 + 1990.745017041 * t);
-        Y2 += 0.00000016812 * Math.cos(0.77954286997 + 2787.0430238574 * t);
-        Y2 += 0.00000012593 * Math.cos(2.18013310837 + 2388.8940204492 * t);
-        Y2 += 0.00000015019 * Math.cos(4.97047493091 + 1592.5960136328 * t);
-        Y2 += 0.00000011289 * Math.cos(6.01290979033 + 6525.8044539654 * t);
-        Y2 += 0.00000012302 * Math.cos(5.54713651711 + 3339.6321056316 * t);
-        Y2 += 0.00000012284 * Math.cos(0.57411575365 + 3341.592747768 * t);
-        Y2 += 0.00000011117 * Math.cos(1.40530378545 + 796.2980068164 * t);
-        Y2 += 0.00000013747 * Math.cos(5.31116419768 + 3894.1818295422 * t);
-        Y2 += 0.00000010577 * Math.cos(0.59752271504 + 4399.994356889 * t);
-        Y2 += 0.00000012705 * Math.cos(4.25802747859 + 155.4203994342 * t);
-        Y2 += 0.00000010098 * Math.cos(5.47747691225 + 2146.1654164752 * t);
-        Y2 += 0.00000008863 * Math.cos(3.88169637617 + 4292.3308329504 * t);
-        Y2 += 0.00000008121 * Math.cos(3.78260601575 + 10025.3603984484 * t);
-        Y2 += 0.00000008120 * Math.cos(2.48132497663 + 4690.4798363586 * t);
-        Y2 += 0.00000008061 * Math.cos(6.02603958883 + 5486.777843175 * t);
-        Y2 += 0.00000008308 * Math.cos(5.94980766794 + 2957.7158944766 * t);
-        Y2 += 0.00000007546 * Math.cos(0.72982074611 + 1589.0728952838 * t);
-        Y2 += 0.00000008863 * Math.cos(0.51480663563 + 4535.0594369244 * t);
-        Y2 += 0.00000007306 * Math.cos(0.15133585090 + 3723.508958923 * t);
-        Y2 += 0.00000008322 * Math.cos(1.11264211549 + 5088.6288397668 * t);
-        Y2 += 0.00000006121 * Math.cos(3.80547694913 + 7079.3738568078 * t);
-        Y2 += 0.00000005292 * Math.cos(2.91159592616 + 553.5694028424 * t);
-        Y2 += 0.00000005260 * Math.cos(4.61737050810 + 5884.9268465832 * t);
-        Y2 += 0.00000005181 * Math.cos(3.78652084191 + 242.728603974 * t);
-        Y2 += 0.00000004788 * Math.cos(5.08946784428 + 3333.498879699 * t);
-        Y2 += 0.00000004994 * Math.cos(3.77687231272 + 2274.1169495098 * t);
-        Y2 += 0.00000005294 * Math.cos(2.49424280894 + 6489.776587288 * t);
-        Y2 += 0.00000005700 * Math.cos(3.23668454093 + 7.1135470008 * t);
-        Y2 += 0.00000004310 * Math.cos(5.38385773303 + 4933.2084403326 * t);
-        Y2 += 0.00000004451 * Math.cos(6.20023805343 + 2288.3440435114 * t);
-        Y2 += 0.00000004108 * Math.cos(1.09332741074 + 3347.7259737006 * t);
-        Y2 += 0.00000003907 * Math.cos(5.34892103731 + 5092.1519581158 * t);
-        Y2 += 0.00000004168 * Math.cos(1.63291442825 + 951.7184062506 * t);
-        Y2 += 0.00000003986 * Math.cos(3.74911328925 + 23384.2869868986 * t);
-        Y2 += 0.00000004160 * Math.cos(0.01637628167 + 1748.016413067 * t);
-        Y2 += 0.00000003853 * Math.cos(2.50327269341 + 3870.3033917944 * t);
-        Y2 += 0.00000003509 * Math.cos(0.57679733808 + 1349.8674096588 * t);
-        Y2 += 0.00000004609 * Math.cos(2.29503773584 + 7477.522860216 * t);
-        Y2 += 0.00000003221 * Math.cos(0.80341863927 + 426.598190876 * t);
-        Y2 += 0.00000003076 * Math.cos(2.19921948725 + 6438.4962494256 * t);
-        Y2 += 0.00000002496 * Math.cos(3.96886138858 + 5331.3574437408 * t);
-        Y2 += 0.00000002377 * Math.cos(0.38140430638 + 6836.6452528338 * t);
-        Y2 += 0.00000002686 * Math.cos(3.87569148850 + 382.8965322232 * t);
-        Y2 += 0.00000002208 * Math.cos(4.32192232999 + 9492.1463150048 * t);
-        Y2 += 0.00000002174 * Math.cos(1.14140386023 + 6127.6554505572 * t);
-        Y2 += 0.00000002254 * Math.cos(5.32326617203 + 2281.2304965106 * t);
-        Y2 += 0.00000002234 * Math.cos(3.34034105089 + 6677.7017350506 * t);
-        Y2 += 0.00000002008 * Math.cos(0.97233813710 + 6682.2051744678 * t);
-        Y2 += 0.00000001886 * Math.cos(0.88359569638 + 4929.6853219836 * t);
-        Y2 += 0.00000002399 * Math.cos(5.71798195089 + 639.897286314 * t);
-        Y2 += 0.00000001966 * Math.cos(5.66277094404 + 6681.2075997474 * t);
-        Y2 += 0.00000001709 * Math.cos(3.15485228182 + 3553.9115221378 * t);
-        Y2 += 0.00000001623 * Math.cos(2.91176858936 + 3127.3133312618 * t);
-        Y2 += 0.00000001966 * Math.cos(1.40934384205 + 6681.2421070518 * t);
-        Y2 += 0.00000002129 * Math.cos(0.96593329639 + 7740.6067835888 * t);
-        Y2 += 0.00000001613 * Math.cos(0.87522364052 + 7875.6718636242 * t);
-        Y2 += 0.00000001959 * Math.cos(4.59967067607 + 6923.9534573736 * t);
-        Y2 += 0.00000001707 * Math.cos(1.58055507525 + 191.4482661116 * t);
-        Y2 += 0.00000001563 * Math.cos(6.04825312520 + 8969.568896911 * t);
-        Y2 += 0.00000001562 * Math.cos(3.60601030893 + 8955.3418029094 * t);
-        Y2 += 0.00000001521 * Math.cos(1.24699713469 + 2118.7638603784 * t);
-        Y2 += 0.00000001856 * Math.cos(2.55647948443 + 5729.506447149 * t);
-        Y2 += 0.00000001727 * Math.cos(2.85561952146 + 6674.1113063988 * t);
-        Y2 += 0.00000001467 * Math.cos(4.10525560389 + 13365.9728251482 * t);
-        Y2 += 0.00000001489 * Math.cos(0.07763972898 + 9866.4168806652 * t);
-        Y2 += 0.00000001241 * Math.cos(2.40154751214 + 640.8776073822 * t);
-        Y2 += 0.00000001216 * Math.cos(5.32666382225 + 6254.6266625236 * t);
-        Y2 += 0.00000001163 * Math.cos(0.02680352381 + 6298.3283211764 * t);
-        Y2 += 0.00000001127 * Math.cos(4.74702347824 + 12832.7587417046 * t);
-        Y2 += 0.00000001479 * Math.cos(4.19328625081 + 10419.9862835076 * t);
-        Y2 += 0.00000001110 * Math.cos(0.62876661717 + 12303.06777661 * t);
-        Y2 += 0.00000001201 * Math.cos(1.35027812980 + 3767.2106175758 * t);
-        Y2 += 0.00000001209 * Math.cos(4.02724556737 + 529.6909650946 * t);
-        Y2 += 0.00000001277 * Math.cos(4.14556116975 + 2810.9214616052 * t);
-        Y2 += 0.00000000996 * Math.cos(4.74526775741 + 4562.4609930212 * t);
-        Y2 += 0.00000001177 * Math.cos(3.11858509884 + 2699.7348193176 * t);
-        Y2 += 0.00000001107 * Math.cos(3.43598182944 + 7210.9158184942 * t);
-        Y2 += 0.00000000980 * Math.cos(4.10189301724 + 1751.539531416 * t);
-        Y2 += 0.00000000992 * Math.cos(2.89543127786 + 9830.3890139878 * t);
-        Y2 += 0.00000000879 * Math.cos(2.65396505074 + 10818.1352869158 * t);
-        Y2 += 0.00000000801 * Math.cos(3.12247047301 + 7234.794256242 * t);
-        Y2 += 0.00000000750 * Math.cos(5.47332571883 + 10018.3141617504 * t);
-        Y2 += 0.00000001020 * Math.cos(2.84383580823 + 3981.490034082 * t);
-        Y2 += 0.00000000752 * Math.cos(3.75998155147 + 9623.6882766912 * t);
-        Y2 += 0.00000000817 * Math.cos(1.80163831596 + 10021.8545337516 * t);
-        Y2 += 0.00000000980 * Math.cos(2.36639419833 + 6151.533888305 * t);
-        Y2 += 0.00000000722 * Math.cos(4.62906876375 + 853.196381752 * t);
-        Y2 += 0.00000000816 * Math.cos(6.05414506463 + 10021.8200264472 * t);
-        Y2 += 0.00000000920 * Math.cos(0.39289007555 + 6041.3275670856 * t);
-        Y2 += 0.00000000685 * Math.cos(5.75193209744 + 8273.8208670324 * t);
-        Y2 += 0.00000000647 * Math.cos(3.74908813669 + 6681.1575430968 * t);
-        Y2 += 0.00000000850 * Math.cos(1.47881746342 + 6688.3384004004 * t);
-        Y2 += 0.00000000652 * Math.cos(3.34981557701 + 6681.2921637024 * t);
-        Y2 += 0.00000000700 * Math.cos(1.67530129882 + 7632.9432596502 * t);
-        Y2 += 0.00000000577 * Math.cos(1.04070762372 + 15643.6802033098 * t);
-        Y2 += 0.00000000717 * Math.cos(2.07519839097 + 3178.1457905676 * t);
-        Y2 += 0.00000000652 * Math.cos(3.70253626949 + 6894.5239488376 * t);
-        Y2 += 0.00000000545 * Math.cos(3.41522137104 + 2766.267628365 * t);
-        Y2 += 0.00000000673 * Math.cos(4.04821743411 + 3503.079062832 * t);
-        Y2 += 0.00000000617 * Math.cos(0.99680091352 + 3253.30422216 * t);
-        Y2 += 0.00000000536 * Math.cos(3.52327599023 + 6040.3472460174 * t);
-        Y2 += 0.00000000596 * Math.cos(5.12699846907 + 3427.9206312396 * t);
-        Y2 += 0.00000000588 * Math.cos(3.96278469025 + 213.299095438 * t);
-        Y2 += 0.00000000475 * Math.cos(0.27257730049 + 8031.0922630584 * t);
-        Y2 += 0.00000000452 * Math.cos(3.92413733398 + 7064.1213856228 * t);
-        Y2 += 0.00000000545 * Math.cos(5.75151872801 + 6680.2445323314 * t);
-        Y2 += 0.00000000410 * Math.cos(0.01129204844 + 3980.5097130138 * t);
-        Y2 += 0.00000000407 * Math.cos(3.71457448004 + 398.1490034082 * t);
-        Y2 += 0.00000000561 * Math.cos(4.09070736733 + 26724.8994135984 * t);
-        Y2 += 0.00000000394 * Math.cos(4.16793050853 + 12964.300703391 * t);
-        Y2 += 0.00000000424 * Math.cos(1.70223257043 + 2648.454825473 * t);
-        Y2 += 0.00000000494 * Math.cos(4.49655447960 + 2914.0142358238 * t);
-        Y2 += 0.00000000406 * Math.cos(2.58759397313 + 3914.9572250346 * t);
-        Y2 += 0.00000000495 * Math.cos(1.02025723901 + 1039.0266107904 * t);
-        Y2 += 0.00000000369 * Math.cos(1.17514057075 + 8270.2977486834 * t);
-        Y2 += 0.00000000380 * Math.cos(1.32206670955 + 11081.2192102886 * t);
-        Y2 += 0.00000000362 * Math.cos(0.90947170771 + 2700.7151403858 * t);
-        Y2 += 0.00000000328 * Math.cos(2.75210171118 + 6872.6731195112 * t);
-        Y2 += 0.00000000402 * Math.cos(4.93492106682 + 8962.4553499102 * t);
-        Y2 += 0.00000000348 * Math.cos(0.42381697714 + 5614.7293762096 * t);
-        Y2 += 0.00000000300 * Math.cos(1.28282479527 + 5459.3762870782 * t);
-        Y2 += 0.00000000326 * Math.cos(1.34710144821 + 10022.8176011676 * t);
-        Y2 += 0.00000000289 * Math.cos(0.11523060708 + 574.3447983348 * t);
-        Y2 += 0.00000000277 * Math.cos(1.25004682191 + 11216.284290324 * t);
-        Y2 += 0.00000000272 * Math.cos(4.28209348126 + 10551.528245194 * t);
-        Y2 += 0.00000000281 * Math.cos(4.56486810428 + 13760.5987102074 * t);
-        Y2 += 0.00000000353 * Math.cos(4.32675452202 + 8671.9698704406 * t);
-        Y2 += 0.00000000268 * Math.cos(3.72932515250 + 10021.9045904022 * t);
-        Y2 += 0.00000000297 * Math.cos(1.37206169767 + 5828.0284716476 * t);
-        Y2 += 0.00000000263 * Math.cos(1.47811633236 + 9468.267877257 * t);
-        Y2 += 0.00000000315 * Math.cos(5.10166124248 + 16173.3711684044 * t);
-        Y2 += 0.00000000265 * Math.cos(2.25319243195 + 2487.4160449478 * t);
-        Y2 += 0.00000000271 * Math.cos(3.92820739547 + 8432.7643848156 * t);
-        Y2 += 0.00000000253 * Math.cos(3.25996630819 + 1066.49547719 * t);
-        Y2 += 0.00000000242 * Math.cos(5.37781682645 + 13358.9265884502 * t);
-        Y2 += 0.00000000297 * Math.cos(4.56177638218 + 4032.7700279266 * t);
-        Y2 += 0.00000000233 * Math.cos(2.05217226701 + 9779.1086761254 * t);
-        Y2 += 0.00000000267 * Math.cos(4.13774104917 + 10021.7699697966 * t);
-        Y2 += 0.00000000246 * Math.cos(4.94804916890 + 10264.5658840734 * t);
-        Y2 += 0.00000000285 * Math.cos(0.15954661286 + 12310.1813236108 * t);
-        Y2 += 0.00000000244 * Math.cos(3.99455029761 + 1221.8485663214 * t);
-        Y2 += 0.00000000266 * Math.cos(1.39174746943 + 18984.2926300096 * t);
-        Y2 += 0.00000000199 * Math.cos(2.16282411281 + 13362.4669604514 * t);
-        Y2 += 0.00000000199 * Math.cos(0.13210292707 + 13362.432453147 * t);
-        Y2 += 0.00000000202 * Math.cos(4.05984593475 + 2301.58581590939 * t);
-        Y2 += 0.00000000239 * Math.cos(4.43362254313 + 16706.585251848 * t);
-        Y2 += 0.00000000200 * Math.cos(5.38904642432 + 8429.2412664666 * t);
-        Y2 += 0.00000000212 * Math.cos(1.84457939183 + 7107.8230442756 * t);
-        Y2 += 0.00000000226 * Math.cos(3.49275518587 + 10575.4066829418 * t);
-        Y2 += 0.00000000193 * Math.cos(2.86847666295 + 9070.1188738488 * t);
-        Y2 += 0.00000000172 * Math.cos(3.27689792601 + 13171.0014406876 * t);
-        Y2 += 0.00000000198 * Math.cos(4.83262833047 + 5642.1982426092 * t);
-        Y2 += 0.00000000196 * Math.cos(0.42643861999 + 13207.029307365 * t);
-        Y2 += 0.00000000167 * Math.cos(0.41792207348 + 1052.2683831884 * t);
-        Y2 += 0.00000000177 * Math.cos(0.37846184022 + 9638.9407478762 * t);
-        Y2 += 0.00000000170 * Math.cos(1.42477887702 + 4379.6390374902 * t);
-        Y2 += 0.00000000204 * Math.cos(5.68029274716 + 10177.2576795336 * t);
-        Y2 += 0.00000000155 * Math.cos(3.91618675743 + 12295.9542296092 * t);
-        Y2 += 0.00000000211 * Math.cos(1.76754517424 + 6283.0758499914 * t);
-        Y2 += 0.00000000148 * Math.cos(4.18280926820 + 10235.1363755374 * t);
-        Y2 += 0.00000000141 * Math.cos(1.85259563214 + 10028.9508271002 * t);
-        Y2 += 0.00000000136 * Math.cos(5.89922987098 + 1437.1756141986 * t);
-        Y2 += 0.00000000131 * Math.cos(0.25161165723 + 3029.7716278314 * t);
-        Y2 += 0.00000000153 * Math.cos(1.90910985368 + 10973.55568635 * t);
-        Y2 += 0.00000000120 * Math.cos(3.67319977433 + 149.5631971346 * t);
-        Y2 += 0.00000000116 * Math.cos(5.87205002685 + 3651.4532255682 * t);
-        Y2 += 0.00000000121 * Math.cos(5.22121986472 + 3340.629680352 * t);
-        Y2 += 0.00000000129 * Math.cos(2.33699517207 + 6696.4773245846 * t);
-        Y2 += 0.00000000117 * Math.cos(4.27299444995 + 6701.5801727984 * t);
-        Y2 += 0.00000000121 * Math.cos(3.19272980929 + 3340.5951730476 * t);
-        Y2 += 0.00000000107 * Math.cos(3.57431869370 + 4407.1079038898 * t);
-        Y2 += 0.00000000114 * Math.cos(3.18684723749 + 7322.1024607818 * t);
-        Y2 += 0.00000000136 * Math.cos(0.83727417601 + 15113.9892382152 * t);
-        Y2 += 0.00000000104 * Math.cos(1.56408098268 + 6665.9723822146 * t);
-        Y2 += 0.00000000114 * Math.cos(2.24681555636 + 9168.6408983474 * t);
-        Y2 += 0.00000000101 * Math.cos(2.89480529792 + 14158.7477136156 * t);
-        Y2 += 0.00000000100 * Math.cos(5.74151572110 + 17924.9106998204 * t);
-        Y2 += 0.00000000104 * Math.cos(5.03602136971 + 8827.3902698748 * t);
-        Y2 += 0.00000000131 * Math.cos(5.90938471415 + 6660.8695340008 * t);
-        Y2 += 0.00000000100 * Math.cos(1.58394187969 + 6467.9257579616 * t);
-        Y2 += 0.00000000114 * Math.cos(2.14940221332 + 6518.7582172674 * t);
-        Y2 += 0.00000000114 * Math.cos(1.16549646319 + 11773.3768115154 * t);
-        Y2 += 0.00000000095 * Math.cos(5.01859144435 + 6816.289933435 * t);
-        Y2 += 0.00000000088 * Math.cos(4.49180629006 + 1835.3246176068 * t);
-        Y2 += 0.00000000091 * Math.cos(0.68664247876 + 9381.9399937854 * t);
-        Y2 += 0.00000000092 * Math.cos(3.16422844303 + 10014.7237330986 * t);
-        Y2 += 0.00000000088 * Math.cos(0.28956834699 + 7255.5696517344 * t);
-        Y2 += 0.00000000089 * Math.cos(0.16636618973 + 11371.7046897582 * t);
-        Y2 += 0.00000000080 * Math.cos(4.02168669717 + 10404.7338123226 * t);
-        Y2 += 0.00000000078 * Math.cos(2.06677323042 + 27433.88921587499 * t);
-        Y2 += 0.00000000096 * Math.cos(4.52498397749 + 16304.9131300908 * t);
-        Y2 += 0.00000000075 * Math.cos(2.28006075482 + 9380.9596727172 * t);
-        Y2 += 0.00000000094 * Math.cos(3.73226580941 + 9808.5381846614 * t);
-        Y2 += 0.00000000078 * Math.cos(5.39451215886 + 1505.28780909299 * t);
-        Y2 += 0.00000000074 * Math.cos(4.85473384301 + 1903.4368125012 * t);
-        Y2 += 0.00000000082 * Math.cos(1.64454329520 + 20752.6643624754 * t);
-        Y2 += 0.00000000072 * Math.cos(0.22271495096 + 19800.9459562248 * t);
-        Y2 += 0.00000000085 * Math.cos(5.16678830189 + 4193.8088084518 * t);
-        Y2 += 0.00000000073 * Math.cos(5.59564088175 + 6660.4494579072 * t);
-        Y2 += 0.00000000080 * Math.cos(0.85355076616 + 13119.72110282519 * t);
-        Y2 += 0.00000000094 * Math.cos(3.63777789316 + 7903.073419721 * t);
-        Y2 += 0.00000000075 * Math.cos(5.77675923540 + 13517.8701062334 * t);
-        Y2 += 0.00000000067 * Math.cos(0.10543129344 + 12935.8515159232 * t);
-        Y2 += 0.00000000066 * Math.cos(1.89459556834 + 4845.9002357928 * t);
-        Y2 += 0.00000000067 * Math.cos(6.03101420173 + 5244.049239201 * t);
-        Y2 += 0.00000000069 * Math.cos(4.43286275856 + 30065.5118402982 * t);
-        Y2 += 0.00000000065 * Math.cos(2.27540626241 + 12721.572099417 * t);
-        Y2 += 0.00000000079 * Math.cos(3.75639786511 + 9225.539273283 * t);
-        Y2 += 0.00000000070 * Math.cos(3.03096982456 + 5628.9564702112 * t);
-        Y2 += 0.00000000065 * Math.cos(1.67356767606 + 2631.6226244232 * t);
-        Y2 += 0.00000000065 * Math.cos(5.74828882968 + 20199.094959633 * t);
-        Y2 += 0.00000000063 * Math.cos(4.08619875728 + 13362.517017102 * t);
-        Y2 += 0.00000000057 * Math.cos(3.94042480034 + 27035.7402124668 * t);
-        Y2 += 0.00000000080 * Math.cos(0.78152072903 + 21795.21409161479 * t);
-        Y2 += 0.00000000064 * Math.cos(5.47349341844 + 6768.5330579394 * t);
-        Y2 += 0.00000000062 * Math.cos(1.66193360966 + 5989.0672521728 * t);
-        Y2 += 0.00000000063 * Math.cos(1.04268183515 + 14128.2427712456 * t);
-        Y2 += 0.00000000059 * Math.cos(4.57660740933 + 25287.7237993998 * t);
-        Y2 += 0.00000000057 * Math.cos(5.46713966805 + 16699.53901514999 * t);
-        Y2 += 0.00000000058 * Math.cos(1.21995619161 + 27832.0382192832 * t);
-        Y2 += 0.00000000062 * Math.cos(5.98946104494 + 8425.6508378148 * t);
-        Y2 += 0.00000000057 * Math.cos(1.09390665574 + 17412.0519357756 * t);
-        Y2 += 0.00000000058 * Math.cos(2.47846050317 + 22743.4093795164 * t);
-        Y2 += 0.00000000067 * Math.cos(3.07992916082 + 2233.473621015 * t);
-        Y2 += 0.00000000060 * Math.cos(2.73711498745 + 16062.1845261168 * t);
-        Y2 += 0.00000000049 * Math.cos(5.08147417610 + 11128.9760857842 * t);
-        Y2 += 0.00000000049 * Math.cos(1.66916016303 + 14421.8316369884 * t);
-        Y2 += 0.00000000050 * Math.cos(2.94640653891 + 14584.2982731206 * t);
-        Y2 += 0.00000000057 * Math.cos(3.23516782078 + 8982.810669309 * t);
-        Y2 += 0.00000000050 * Math.cos(1.30948740291 + 6593.9166488598 * t);
-        Y2 += 0.00000000065 * Math.cos(3.77065948973 + 6106.8800550648 * t);
-        Y2 += 0.00000000050 * Math.cos(4.44975506045 + 4049.6022289764 * t);
-        Y2 += 0.00000000050 * Math.cos(6.04891397878 + 21265.5231265202 * t);
-        Y2 += 0.00000000056 * Math.cos(4.09019049345 + 9499.2598620056 * t);
-        Y2 += 0.00000000056 * Math.cos(4.49433446090 + 13362.3823964964 * t);
-        Y2 += 0.00000000046 * Math.cos(4.32277657100 + 13149.1506113612 * t);
-        Y2 += 0.00000000045 * Math.cos(4.42820214061 + 8584.6616659008 * t);
-        Y2 += 0.00000000051 * Math.cos(5.47523455944 + 19513.9835951042 * t);
-        Y2 += 0.00000000048 * Math.cos(1.25598529065 + 23141.5583829246 * t);
-        Y2 += 0.00000000047 * Math.cos(0.46146406745 + 7321.1221397136 * t);
-        Y2 += 0.00000000052 * Math.cos(3.19972838822 + 4447.7512323846 * t);
-        Y2 += 0.00000000058 * Math.cos(0.80841286660 + 18454.601664915 * t);
-        Y2 += 0.00000000043 * Math.cos(1.51803973261 + 8799.988713778 * t);
-        Y2 += 0.00000000043 * Math.cos(0.61818181916 + 6684.8152820514 * t);
-        Y2 += 0.00000000046 * Math.cos(0.99074391135 + 10713.9948813262 * t);
-        Y2 += 0.00000000042 * Math.cos(4.67651911489 + 9485.032768004 * t);
-        Y2 += 0.00000000050 * Math.cos(5.47854915740 + 8186.5126624926 * t);
-        Y2 += 0.00000000043 * Math.cos(0.99542400694 + 6705.1032911474 * t);
-        Y2 += 0.00000000047 * Math.cos(3.65366177977 + 12323.4230960088 * t);
-        Y2 += 0.00000000048 * Math.cos(0.80944904899 + 10596.1820784342 * t);
-        Y2 += 0.00000000048 * Math.cos(1.24802855734 + 16460.33352952499 * t);
-        Y2 += 0.00000000056 * Math.cos(1.47449920800 + 6702.000248892 * t);
-        Y2 += 0.00000000043 * Math.cos(6.23844434280 + 6709.6740408674 * t);
-        Y2 += 0.00000000040 * Math.cos(2.13905875018 + 13553.8979729108 * t);
-        Y2 += 0.00000000043 * Math.cos(0.18705839538 + 6677.6344247478 * t);
-        Y2 += 0.00000000043 * Math.cos(3.41309849056 + 7373.3824546264 * t);
-        Y2 += 0.00000000050 * Math.cos(4.87873224736 + 13892.1406718938 * t);
-        Y2 += 0.00000000048 * Math.cos(2.99107811521 + 17654.7805397496 * t);
-        Y2 += 0.00000000038 * Math.cos(4.13769543996 + 15664.03552270859 * t);
-        Y2 += 0.00000000038 * Math.cos(0.87505173893 + 3340.6797370026 * t);
-        Y2 += 0.00000000044 * Math.cos(4.36036807845 + 25685.872802808 * t);
-        Y2 += 0.00000000049 * Math.cos(2.91514601795 + 6657.3464156518 * t);
-        Y2 += 0.00000000038 * Math.cos(2.44636146068 + 6531.661656265 * t);
-        Y2 += 0.00000000038 * Math.cos(0.17112950159 + 5099.2655051166 * t);
-        Y2 += 0.00000000049 * Math.cos(1.48899492537 + 11610.9101753832 * t);
-        Y2 += 0.00000000037 * Math.cos(5.99921778091 + 18606.4989460002 * t);
-        Y2 += 0.00000000036 * Math.cos(3.12140441287 + 6158.6474353058 * t);
-        Y2 += 0.00000000038 * Math.cos(5.80724401811 + 11614.4332937322 * t);
-        Y2 += 0.00000000038 * Math.cos(1.75887029490 + 22324.9050567094 * t);
-        Y2 += 0.00000000045 * Math.cos(4.50061115897 + 30376.3526391666 * t);
-        Y2 += 0.00000000035 * Math.cos(5.17758129009 + 20735.83216142559 * t);
-        Y2 += 0.00000000038 * Math.cos(2.84376159594 + 10213.285546211 * t);
-        Y2 += 0.00000000046 * Math.cos(4.74541684756 + 3333.5661900018 * t);
-        Y2 += 0.00000000046 * Math.cos(4.51994272467 + 3347.6586633978 * t);
-        Y2 += 0.00000000043 * Math.cos(1.88067652530 + 31570.7996493912 * t);
-        Y2 += 0.00000000042 * Math.cos(1.70888858696 + 13363.4300278674 * t);
-        Y2 += 0.00000000036 * Math.cos(3.06997899410 + 26084.0218062162 * t);
-        Y2 += 0.00000000033 * Math.cos(0.01439307540 + 4777.7880408984 * t);
-        Y2 += 0.00000000036 * Math.cos(6.11394649079 + 24606.13555322 * t);
-        Y2 += 0.00000000039 * Math.cos(1.28072614128 + 3340.545116397 * t);
-        Y2 += 0.00000000037 * Math.cos(4.59423799549 + 19004.6479494084 * t);
-        Y2 += 0.00000000030 * Math.cos(5.15711969407 + 8439.8779318164 * t);
-        Y2 += 0.00000000031 * Math.cos(5.25117631915 + 4106.4054911462 * t);
-        Y2 += 0.00000000031 * Math.cos(0.87259059949 + 2574.8193622534 * t);
-        Y2 += 0.00000000031 * Math.cos(0.98186586659 + 28230.18722269139 * t);
-        Y2 += 0.00000000028 * Math.cos(0.10419361626 + 12509.2533250472 * t);
-        Y2 += 0.00000000029 * Math.cos(0.50244127169 + 16276.463942623 * t);
-        Y2 += 0.00000000035 * Math.cos(0.12378304174 + 3.523118349 * t);
-        Y2 += 0.00000000030 * Math.cos(5.37981269791 + 24076.4445881254 * t);
-        Y2 += 0.00000000034 * Math.cos(4.37235683472 + 11769.8536931664 * t);
-        Y2 += 0.00000000028 * Math.cos(0.59603557040 + 15650.7937503106 * t);
-        Y2 += 0.00000000027 * Math.cos(6.26048737681 + 11527.1250891924 * t);
-        Y2 += 0.00000000027 * Math.cos(1.20265931007 + 20809.4676246452 * t);
-        Y2 += 0.00000000027 * Math.cos(4.82118994609 + 17101.2111369072 * t);
-        Y2 += 0.00000000031 * Math.cos(3.11642365383 + 19402.7969528166 * t);
-        Y2 += 0.00000000034 * Math.cos(0.07900082872 + 28628.3362260996 * t);
-        Y2 += 0.00000000026 * Math.cos(1.55966729504 + 21548.9623692918 * t);
-        Y2 += 0.00000000030 * Math.cos(5.04089195924 + 11925.2740926006 * t);
-        Y2 += 0.00000000026 * Math.cos(4.11559858625 + 13916.0191096416 * t);
-        Y2 += 0.00000000031 * Math.cos(3.85373149878 + 6843.6914895318 * t);
-        Y2 += 0.00000000026 * Math.cos(5.44448128332 + 13745.3462390224 * t);
-        Y2 += 0.00000000026 * Math.cos(2.52360223364 + 16066.0658614748 * t);
-        Y2 += 0.00000000028 * Math.cos(5.50723877314 + 15265.8865193004 * t);
-        Y2 += 0.00000000025 * Math.cos(3.73793787048 + 23695.127785767 * t);
-        Y2 += 0.00000000032 * Math.cos(4.88973346842 + 20597.2439630412 * t);
-        Y2 += 0.00000000026 * Math.cos(6.04122572180 + 12722.5524204852 * t);
-        Y2 += 0.00000000025 * Math.cos(4.91085018100 + 29026.48522950779 * t);
-        Y2 += 0.00000000023 * Math.cos(2.87587036440 + 31172.650645983 * t);
-        Y2 += 0.00000000022 * Math.cos(0.59265034235 + 22747.2907148744 * t);
-        Y2 += 0.00000000026 * Math.cos(0.10826980097 + 21947.11137270 * t);
-        Y2 += 0.00000000022 * Math.cos(5.95022215185 + 16858.4825329332 * t);
-        Y2 += 0.00000000024 * Math.cos(5.54824366988 + 3877.4169387952 * t);
-        Y2 += 0.00000000024 * Math.cos(0.26293436197 + 23539.7073863328 * t);
-        Y2 += 0.00000000021 * Math.cos(5.54933439149 + 1744.4259844152 * t);
-        Y2 += 0.00000000020 * Math.cos(0.82610997828 + 33318.8160624582 * t);
-        Y2 += 0.00000000020 * Math.cos(3.65831642481 + 30774.5016425748 * t);
-        Y2 += 0.00000000020 * Math.cos(5.61098973994 + 26637.59120905859 * t);
-        Y2 += 0.00000000020 * Math.cos(1.71404094069 + 1062.9050485382 * t);
-        Y2 += 0.00000000020 * Math.cos(4.05235689782 + 33716.9650658664 * t);
-        Y2 += 0.00000000020 * Math.cos(2.37108711004 + 34911.412076091 * t);
-        Y2 += 0.00000000019 * Math.cos(2.54881450162 + 40000.04091585779 * t);
-        Y2 += 0.00000000018 * Math.cos(1.11985216685 + 23937.856389741 * t);
-        Y2 += 0.00000000019 * Math.cos(0.02851954732 + 5085.038411115 * t);
-        Y2 += 0.00000000018 * Math.cos(6.10539374379 + 3863.1898447936 * t);
-        Y2 += 0.00000000020 * Math.cos(0.56057892003 + 10787.6303445458 * t);
-        Y2 += 0.00000000018 * Math.cos(0.84708374416 + 14071.43950907579 * t);
-        Y2 += 0.00000000023 * Math.cos(4.13400956412 + 4392.8808098882 * t);
-        Y2 += 0.00000000017 * Math.cos(3.29558481475 + 24491.4257925834 * t);
-        Y2 += 0.00000000023 * Math.cos(5.60082876800 + 37455.7264959744 * t);
-        Y2 += 0.00000000020 * Math.cos(1.91977177100 + 24889.5747959916 * t);
-        Y2 += 0.00000000019 * Math.cos(2.81301749154 + 2803.8079146044 * t);
-        Y2 += 0.00000000020 * Math.cos(4.93008492333 + 22345.2603761082 * t);
-        Y2 += 0.00000000018 * Math.cos(1.66720271102 + 14469.588512484 * t);
-        Y2 += 0.00000000020 * Math.cos(0.02728239137 + 29978.2036357584 * t);
-        Y2 += 0.00000000018 * Math.cos(2.26405048660 + 3492.509707785 * t);
-        Y2 += 0.00000000018 * Math.cos(0.71812377845 + 3188.7151456146 * t);
-        Y2 += 0.00000000021 * Math.cos(2.40469497179 + 2818.035008606 * t);
-        Y2 += 0.00000000017 * Math.cos(1.10170947030 + 13936.794505134 * t);
-        Y2 += 0.00000000017 * Math.cos(1.27632047280 + 5618.3198048614 * t);
-        Y2 += 0.00000000019 * Math.cos(0.99992364561 + 18208.349942592 * t);
-        Y2 += 0.00000000016 * Math.cos(3.95588187950 + 39601.8919124496 * t);
-        Y2 += 0.00000000016 * Math.cos(2.20820580655 + 10448.4354709754 * t);
-        Y2 += 0.00000000016 * Math.cos(2.13707939759 + 21150.8133658836 * t);
-        Y2 += 0.00000000018 * Math.cos(0.65926982752 + 18451.07854656599 * t);
-        Y2 += 0.00000000015 * Math.cos(4.39788737346 + 23546.7536230308 * t);
-        Y2 += 0.00000000015 * Math.cos(1.00397038267 + 17277.4069318338 * t);
-        Y2 += 0.00000000015 * Math.cos(2.73448744057 + 36261.2794857498 * t);
-        Y2 += 0.00000000015 * Math.cos(4.32264037258 + 2938.9403049426 * t);
-        Y2 += 0.00000000015 * Math.cos(4.94271919965 + 3742.284548457 * t);
-        Y2 += 0.00000000015 * Math.cos(2.68088184593 + 17013.9029323674 * t);
-        Y2 += 0.00000000018 * Math.cos(0.65056538408 + 14867.73751589219 * t);
-        Y2 += 0.00000000015 * Math.cos(1.23424327221 + 29580.05463235019 * t);
-        Y2 += 0.00000000019 * Math.cos(3.20578535726 + 20354.5153590672 * t);
-        Y2 += 0.00000000018 * Math.cos(3.99911093876 + 17468.8551979454 * t);
-        Y2 += 0.00000000015 * Math.cos(0.11814963122 + 26239.44220565039 * t);
-        Y2 += 0.00000000019 * Math.cos(1.67249955547 + 36659.428489158 * t);
-        Y2 += 0.00000000014 * Math.cos(4.63973555900 + 27490.6924780448 * t);
-        Y2 += 0.00000000014 * Math.cos(5.84585102698 + 11243.6858464208 * t);
-        Y2 += 0.00000000016 * Math.cos(1.84041978240 + 12808.8803039568 * t);
-        Y2 += 0.00000000014 * Math.cos(3.69123561689 + 9595.2390892234 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 136 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00001448778;
-        Y3 += 0.00000548277 * Math.cos(0.33360423382 + 6681.2248533996 * t);
-        Y3 += 0.00000316422 * Math.cos(0.81609547752 + 10021.8372800994 * t);
-        Y3 += 0.00000121864 * Math.cos(4.21281448757 + 3340.6124266998 * t);
-        Y3 += 0.00000088558 * Math.cos(1.20276993071 + 13362.4497067992 * t);
-        Y3 += 0.00000019088 * Math.cos(1.56560410465 + 16703.062133499 * t);
-        Y3 += 0.00000017293 * Math.cos(1.97503775578 + 3496.032826134 * t);
-        Y3 += 0.00000017050 * Math.cos(4.14879086475 + 3185.1920272656 * t);
-        Y3 += 0.00000007913 * Math.cos(4.62482643997 + 3337.0893083508 * t);
-        Y3 += 0.00000007879 * Math.cos(1.48801834339 + 3344.1355450488 * t);
-        Y3 += 0.00000003598 * Math.cos(1.91971055963 + 20043.6745601988 * t);
-        Y3 += 0.00000003724 * Math.cos(2.74263177823 + 3583.3410306738 * t);
-        Y3 += 0.00000003706 * Math.cos(3.37952847105 + 3097.88382272579 * t);
-        Y3 += 0.00000002859 * Math.cos(1.93515168613 + 6684.7479717486 * t);
-        Y3 += 0.00000002392 * Math.cos(4.50849572151 + 6525.8044539654 * t);
-        Y3 += 0.00000002389 * Math.cos(0.57456638903 + 3894.1818295422 * t);
-        Y3 += 0.00000002357 * Math.cos(5.54957319553 + 2787.0430238574 * t);
-        Y3 += 0.00000002125 * Math.cos(5.75979360774 + 155.4203994342 * t);
-        Y3 += 0.00000001301 * Math.cos(5.46343073746 + 4292.3308329504 * t);
-        Y3 += 0.00000001265 * Math.cos(0.65832369520 + 2388.8940204492 * t);
-        Y3 += 0.00000001160 * Math.cos(5.63751190575 + 3532.0606928114 * t);
-        Y3 += 0.00000001144 * Math.cos(0.47525689968 + 3149.1641605882 * t);
-        Y3 += 0.00000001140 * Math.cos(0.36648108968 + 4136.9104335162 * t);
-        Y3 += 0.00000001033 * Math.cos(5.74652285578 + 2544.3144198834 * t);
-        Y3 += 0.00000000999 * Math.cos(0.83738148713 + 3339.6321056316 * t);
-        Y3 += 0.00000000903 * Math.cos(4.06289414325 + 4690.4798363586 * t);
-        Y3 += 0.00000000993 * Math.cos(5.28170605059 + 3341.592747768 * t);
-        Y3 += 0.00000000866 * Math.cos(2.03957182186 + 1990.745017041 * t);
-        Y3 += 0.00000000780 * Math.cos(2.29915840069 + 10025.3603984484 * t);
-        Y3 += 0.00000000795 * Math.cos(1.68810281929 + 3723.508958923 * t);
-        Y3 += 0.00000000781 * Math.cos(4.42878840709 + 2957.7158944766 * t);
-        Y3 += 0.00000000626 * Math.cos(2.26722464083 + 23384.2869868986 * t);
-        Y3 += 0.00000000718 * Math.cos(5.26216518522 + 4535.0594369244 * t);
-        Y3 += 0.00000000630 * Math.cos(2.66594816549 + 5088.6288397668 * t);
-        Y3 += 0.00000000619 * Math.cos(0.87185440690 + 2146.1654164752 * t);
-        Y3 += 0.00000000591 * Math.cos(3.41961730120 + 1592.5960136328 * t);
-        Y3 += 0.00000000450 * Math.cos(0.35535293147 + 3333.498879699 * t);
-        Y3 += 0.00000000426 * Math.cos(1.74413244329 + 3738.761430108 * t);
-        Y3 += 0.00000000411 * Math.cos(4.29235402771 + 2942.4634232916 * t);
-        Y3 += 0.00000000413 * Math.cos(5.78184272155 + 3347.7259737006 * t);
-        Y3 += 0.00000000398 * Math.cos(5.34760414214 + 4399.994356889 * t);
-        Y3 += 0.00000000372 * Math.cos(1.83526632397 + 6836.6452528338 * t);
-        Y3 += 0.00000000489 * Math.cos(3.10015454635 + 6923.9534573736 * t);
-        Y3 += 0.00000000356 * Math.cos(5.91358813779 + 6127.6554505572 * t);
-        Y3 += 0.00000000348 * Math.cos(4.92198363334 + 1059.3819301892 * t);
-        Y3 += 0.00000000399 * Math.cos(0.93216820629 + 6489.776587288 * t);
-        Y3 += 0.00000000280 * Math.cos(1.14071288830 + 5621.8429232104 * t);
-        Y3 += 0.00000000357 * Math.cos(4.86358566470 + 9866.4168806652 * t);
-        Y3 += 0.00000000293 * Math.cos(2.25152589204 + 7079.3738568078 * t);
-        Y3 += 0.00000000338 * Math.cos(0.77428089130 + 7477.522860216 * t);
-        Y3 += 0.00000000238 * Math.cos(3.64302943603 + 6438.4962494256 * t);
-        Y3 += 0.00000000214 * Math.cos(5.70028080048 + 6682.2051744678 * t);
-        Y3 += 0.00000000176 * Math.cos(2.42829974834 + 5331.3574437408 * t);
-        Y3 += 0.00000000215 * Math.cos(1.03281362505 + 5729.506447149 * t);
-        Y3 += 0.00000000157 * Math.cos(3.81392312629 + 4933.2084403326 * t);
-        Y3 += 0.00000000153 * Math.cos(5.64157477710 + 7875.6718636242 * t);
-        Y3 += 0.00000000149 * Math.cos(4.80621690834 + 6298.3283211764 * t);
-        Y3 += 0.00000000173 * Math.cos(2.64284412795 + 13365.9728251482 * t);
-        Y3 += 0.00000000144 * Math.cos(0.84473821034 + 7234.794256242 * t);
-        Y3 += 0.00000000156 * Math.cos(5.74300569044 + 7740.6067835888 * t);
-        Y3 += 0.00000000142 * Math.cos(4.53500950354 + 6677.7017350506 * t);
-        Y3 += 0.00000000100 * Math.cos(1.34247959502 + 9830.3890139878 * t);
-        Y3 += 0.00000000108 * Math.cos(2.66869708217 + 10419.9862835076 * t);
-        Y3 += 0.00000000083 * Math.cos(5.73181738271 + 4929.6853219836 * t);
-        Y3 += 0.00000000084 * Math.cos(1.14929842944 + 10818.1352869158 * t);
-        Y3 += 0.00000000099 * Math.cos(2.61551137742 + 26724.8994135984 * t);
-        Y3 += 0.00000000076 * Math.cos(5.73955552897 + 7632.9432596502 * t);
-        Y3 += 0.00000000084 * Math.cos(3.85936136739 + 796.2980068164 * t);
-        Y3 += 0.00000000065 * Math.cos(3.44980702826 + 10264.5658840734 * t);
-        Y3 += 0.00000000082 * Math.cos(6.18741349378 + 6688.3384004004 * t);
-        Y3 += 0.00000000057 * Math.cos(6.26483235290 + 9468.267877257 * t);
-        Y3 += 0.00000000057 * Math.cos(3.22569928236 + 12832.7587417046 * t);
-        Y3 += 0.00000000057 * Math.cos(1.64237063245 + 7210.9158184942 * t);
-        Y3 += 0.00000000056 * Math.cos(2.67589330508 + 9492.1463150048 * t);
-        Y3 += 0.00000000053 * Math.cos(5.43922764587 + 398.1490034082 * t);
-        Y3 += 0.00000000051 * Math.cos(4.25693864007 + 8273.8208670324 * t);
-        Y3 += 0.00000000050 * Math.cos(2.51240818090 + 1194.4470102246 * t);
-        Y3 += 0.00000000050 * Math.cos(5.21362719324 + 13207.029307365 * t);
-        Y3 += 0.00000000044 * Math.cos(5.38376440301 + 12303.06777661 * t);
-        Y3 += 0.00000000047 * Math.cos(4.01504004134 + 6681.2075997474 * t);
-        Y3 += 0.00000000043 * Math.cos(1.11183270113 + 3870.3033917944 * t);
-        Y3 += 0.00000000047 * Math.cos(6.04581305192 + 6681.2421070518 * t);
-        Y3 += 0.00000000046 * Math.cos(4.32857993306 + 8031.0922630584 * t);
-        Y3 += 0.00000000042 * Math.cos(0.26848832014 + 10021.8545337516 * t);
-        Y3 += 0.00000000043 * Math.cos(6.08984121699 + 10022.8176011676 * t);
-        Y3 += 0.00000000037 * Math.cos(4.08178891841 + 1349.8674096588 * t);
-        Y3 += 0.00000000042 * Math.cos(4.52104600477 + 10021.8200264472 * t);
-        Y3 += 0.00000000035 * Math.cos(4.87091729626 + 8827.3902698748 * t);
-        Y3 += 0.00000000036 * Math.cos(6.10910831551 + 11081.2192102886 * t);
-        Y3 += 0.00000000035 * Math.cos(1.39789454098 + 9070.1188738488 * t);
-        Y3 += 0.00000000033 * Math.cos(5.71992391629 + 15643.6802033098 * t);
-        Y3 += 0.00000000037 * Math.cos(4.27106838047 + 10018.3141617504 * t);
-        Y3 += 0.00000000031 * Math.cos(5.50269500344 + 951.7184062506 * t);
-        Y3 += 0.00000000037 * Math.cos(1.88071119483 + 7064.1213856228 * t);
-        Y3 += 0.00000000026 * Math.cos(6.01108995623 + 11216.284290324 * t);
-        Y3 += 0.00000000026 * Math.cos(1.55191904155 + 10575.4066829418 * t);
-        Y3 += 0.00000000031 * Math.cos(0.94089475776 + 6680.2445323314 * t);
-        Y3 += 0.00000000026 * Math.cos(2.14397962255 + 9623.6882766912 * t);
-        Y3 += 0.00000000028 * Math.cos(4.00361922136 + 8432.7643848156 * t);
-        Y3 += 0.00000000025 * Math.cos(3.04909888089 + 13760.5987102074 * t);
-        Y3 += 0.00000000033 * Math.cos(2.81930816477 + 8671.9698704406 * t);
-        Y3 += 0.00000000025 * Math.cos(5.31993147893 + 8962.4553499102 * t);
-        Y3 += 0.00000000030 * Math.cos(0.63584180471 + 553.5694028424 * t);
-        Y3 += 0.00000000027 * Math.cos(2.96898104191 + 16706.585251848 * t);
-        Y3 += 0.00000000026 * Math.cos(3.11614471488 + 1748.016413067 * t);
-        Y3 += 0.00000000024 * Math.cos(6.03259958940 + 8270.2977486834 * t);
-        Y3 += 0.00000000025 * Math.cos(2.12757387882 + 6894.5239488376 * t);
-        Y3 += 0.00000000020 * Math.cos(5.94324542589 + 3767.2106175758 * t);
-        Y3 += 0.00000000020 * Math.cos(5.16271011972 + 9638.9407478762 * t);
-        Y3 += 0.00000000018 * Math.cos(2.62494525957 + 2281.2304965106 * t);
-        Y3 += 0.00000000018 * Math.cos(0.54862494405 + 6674.1113063988 * t);
-        Y3 += 0.00000000017 * Math.cos(1.71122423456 + 13171.0014406876 * t);
-        Y3 += 0.00000000019 * Math.cos(1.19709776876 + 5486.777843175 * t);
-        Y3 += 0.00000000023 * Math.cos(0.12198032175 + 10973.55568635 * t);
-        Y3 += 0.00000000016 * Math.cos(2.13814265982 + 6681.1575430968 * t);
-        Y3 += 0.00000000017 * Math.cos(5.90592241107 + 242.728603974 * t);
-        Y3 += 0.00000000019 * Math.cos(0.71454311343 + 2810.9214616052 * t);
-        Y3 += 0.00000000016 * Math.cos(2.45822520726 + 10551.528245194 * t);
-        Y3 += 0.00000000015 * Math.cos(6.18242140747 + 5459.3762870782 * t);
-        Y3 += 0.00000000016 * Math.cos(1.72964627298 + 6681.2921637024 * t);
-        Y3 += 0.00000000014 * Math.cos(0.28512193614 + 10028.9508271002 * t);
-        Y3 += 0.00000000013 * Math.cos(1.74759770781 + 10177.2576795336 * t);
-        Y3 += 0.00000000014 * Math.cos(5.31424135483 + 191.4482661116 * t);
-        Y3 += 0.00000000014 * Math.cos(4.95938607846 + 12310.1813236108 * t);
-        Y3 += 0.00000000011 * Math.cos(3.23427487345 + 8429.2412664666 * t);
-        Y3 += 0.00000000011 * Math.cos(1.66323689163 + 382.8965322232 * t);
-        Y3 += 0.00000000009 * Math.cos(5.15345625366 + 11773.3768115154 * t);
-        Y3 += 0.00000000012 * Math.cos(3.27957281574 + 6872.6731195112 * t);
-        Y3 += 0.00000000009 * Math.cos(2.53500018649 + 12295.9542296092 * t);
-        Y3 += 0.00000000010 * Math.cos(1.66347056171 + 10014.7237330986 * t);
-        Y3 += 0.00000000010 * Math.cos(3.62064452721 + 16173.3711684044 * t);
-        Y3 += 0.00000000008 * Math.cos(3.32449323761 + 2914.0142358238 * t);
-        Y3 += 0.00000000009 * Math.cos(3.47289021148 + 3340.629680352 * t);
-        Y3 += 0.00000000007 * Math.cos(1.51284566529 + 14158.7477136156 * t);
-        Y3 += 0.00000000009 * Math.cos(1.44225445435 + 3340.5951730476 * t);
-        Y3 += 0.00000000008 * Math.cos(6.23704450936 + 1751.539531416 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 44 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000012136 * Math.cos(5.53171096923 + 10021.8372800994 * t);
-        Y4 += 0.00000014558;
-        Y4 += 0.00000009397 * Math.cos(5.00023134055 + 6681.2248533996 * t);
-        Y4 += 0.00000003728 * Math.cos(2.31744309373 + 3340.6124266998 * t);
-        Y4 += 0.00000005176 * Math.cos(5.94994449818 + 13362.4497067992 * t);
-        Y4 += 0.00000002424 * Math.cos(3.48212983820 + 3496.032826134 * t);
-        Y4 += 0.00000002408 * Math.cos(2.63869857743 + 3185.1920272656 * t);
-        Y4 += 0.00000001495 * Math.cos(0.04984648713 + 16703.062133499 * t);
-        Y4 += 0.00000000596 * Math.cos(4.88542666193 + 3097.88382272579 * t);
-        Y4 += 0.00000000591 * Math.cos(1.23338318291 + 3583.3410306738 * t);
-        Y4 += 0.00000000380 * Math.cos(2.99761351607 + 6525.8044539654 * t);
-        Y4 += 0.00000000354 * Math.cos(0.41910666274 + 20043.6745601988 * t);
-        Y4 += 0.00000000286 * Math.cos(2.07451183380 + 3894.1818295422 * t);
-        Y4 += 0.00000000285 * Math.cos(4.04744586305 + 2787.0430238574 * t);
-        Y4 += 0.00000000253 * Math.cos(6.13013788772 + 3344.1355450488 * t);
-        Y4 += 0.00000000256 * Math.cos(6.25236569892 + 3337.0893083508 * t);
-        Y4 += 0.00000000152 * Math.cos(0.37871347738 + 6684.7479717486 * t);
-        Y4 += 0.00000000128 * Math.cos(3.68714753439 + 6836.6452528338 * t);
-        Y4 += 0.00000000088 * Math.cos(1.59660002748 + 6923.9534573736 * t);
-        Y4 += 0.00000000071 * Math.cos(0.77284614163 + 23384.2869868986 * t);
-        Y4 += 0.00000000056 * Math.cos(0.77975710465 + 10025.3603984484 * t);
-        Y4 += 0.00000000049 * Math.cos(4.40921783790 + 6127.6554505572 * t);
-        Y4 += 0.00000000063 * Math.cos(3.35944487422 + 9866.4168806652 * t);
-        Y4 += 0.00000000034 * Math.cos(5.11011261832 + 6438.4962494256 * t);
-        Y4 += 0.00000000018 * Math.cos(5.67273705500 + 6489.776587288 * t);
-        Y4 += 0.00000000015 * Math.cos(5.54124089005 + 7477.522860216 * t);
-        Y4 += 0.00000000012 * Math.cos(4.18496035489 + 6682.2051744678 * t);
-        Y4 += 0.00000000012 * Math.cos(3.79977496971 + 4399.994356889 * t);
-        Y4 += 0.00000000013 * Math.cos(4.15046759496 + 10177.2576795336 * t);
-        Y4 += 0.00000000014 * Math.cos(2.25691477586 + 7234.794256242 * t);
-        Y4 += 0.00000000011 * Math.cos(1.94853565727 + 10264.5658840734 * t);
-        Y4 += 0.00000000011 * Math.cos(0.69449787915 + 7079.3738568078 * t);
-        Y4 += 0.00000000012 * Math.cos(5.83137257150 + 5729.506447149 * t);
-        Y4 += 0.00000000013 * Math.cos(1.15304574873 + 13365.9728251482 * t);
-        Y4 += 0.00000000010 * Math.cos(0.93942138709 + 5331.3574437408 * t);
-        Y4 += 0.00000000011 * Math.cos(1.10451949945 + 26724.8994135984 * t);
-        Y4 += 0.00000000008 * Math.cos(3.31794976450 + 6298.3283211764 * t);
-        Y4 += 0.00000000007 * Math.cos(4.15606002322 + 7875.6718636242 * t);
-        Y4 += 0.00000000007 * Math.cos(2.33508864924 + 4933.2084403326 * t);
-        Y4 += 0.00000000004 * Math.cos(1.39676497267 + 1194.4470102246 * t);
-        Y4 += 0.00000000004 * Math.cos(2.20893905344 + 1349.8674096588 * t);
-        Y4 += 0.00000000004 * Math.cos(5.94715857693 + 382.8965322232 * t);
-        Y4 += 0.00000000004 * Math.cos(3.71246158922 + 13207.029307365 * t);
-        Y4 += 0.00000000004 * Math.cos(4.76678794761 + 9468.267877257 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 21 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000353 * Math.cos(3.94830849426 + 10021.8372800994 * t);
-        Y5 += 0.00000000274 * Math.cos(4.99240388971 + 3496.032826134 * t);
-        Y5 += 0.00000000272 * Math.cos(1.12308951649 + 3185.1920272656 * t);
-        Y5 += 0.00000000238 * Math.cos(4.40065412405 + 13362.4497067992 * t);
-        Y5 += 0.00000000151 * Math.cos(1.08010493938 + 3340.6124266998 * t);
-        Y5 -= 0.00000000170;
-        Y5 += 0.00000000093 * Math.cos(4.81201084553 + 16703.062133499 * t);
-        Y5 += 0.00000000077 * Math.cos(0.11215015675 + 3097.88382272579 * t);
-        Y5 += 0.00000000077 * Math.cos(6.01161676189 + 3583.3410306738 * t);
-        Y5 += 0.00000000059 * Math.cos(2.67997407478 + 6681.2248533996 * t);
-        Y5 += 0.00000000049 * Math.cos(1.49385098876 + 6525.8044539654 * t);
-        Y5 += 0.00000000027 * Math.cos(5.18582314898 + 20043.6745601988 * t);
-        Y5 += 0.00000000026 * Math.cos(3.60298036992 + 3894.1818295422 * t);
-        Y5 += 0.00000000026 * Math.cos(2.52078654872 + 2787.0430238574 * t);
-        Y5 += 0.00000000013 * Math.cos(5.15994044385 + 6836.6452528338 * t);
-        Y5 += 0.00000000013 * Math.cos(0.09000961930 + 6923.9534573736 * t);
-        Y5 += 0.00000000006 * Math.cos(5.09874289885 + 6684.7479717486 * t);
-        Y5 += 0.00000000007 * Math.cos(1.85064036647 + 9866.4168806652 * t);
-        Y5 += 0.00000000005 * Math.cos(2.89632661954 + 6127.6554505572 * t);
-        Y5 += 0.00000000005 * Math.cos(5.55804387830 + 23384.2869868986 * t);
-        Y5 += 0.00000000004 * Math.cos(0.31530831962 + 6438.4962494256 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 355 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.04901207220 * Math.cos(3.76712324286 + 3340.6124266998 * t);
-        Z0 += 0.00660669541;
-        Z0 += 0.00228333904 * Math.cos(4.10544022266 + 6681.2248533996 * t);
-        Z0 += 0.00015958402 * Math.cos(4.44367058261 + 10021.8372800994 * t);
-        Z0 += 0.00001321976 * Math.cos(4.78186604114 + 13362.4497067992 * t);
-        Z0 += 0.00000679660 * Math.cos(5.65109977813 + 3337.0893083508 * t);
-        Z0 += 0.00000679219 * Math.cos(5.02527030899 + 3344.1355450488 * t);
-        Z0 += 0.00000531140 * Math.cos(3.86748390045 + 2281.2304965106 * t);
-        Z0 += 0.00000374993 * Math.cos(4.33338216773 + 529.6909650946 * t);
-        Z0 += 0.00000325315 * Math.cos(2.24562508217 + 1059.3819301892 * t);
-        Z0 += 0.00000218762 * Math.cos(1.18094849702 + 3340.5951730476 * t);
-        Z0 += 0.00000218761 * Math.cos(3.21172012852 + 3340.629680352 * t);
-        Z0 += 0.00000152333 * Math.cos(6.08109566130 + 6151.533888305 * t);
-        Z0 += 0.00000146631 * Math.cos(5.09927022855 + 398.1490034082 * t);
-        Z0 += 0.00000152443 * Math.cos(2.13254535850 + 5621.8429232104 * t);
-        Z0 += 0.00000120328 * Math.cos(5.12010663983 + 16703.062133499 * t);
-        Z0 += 0.00000126016 * Math.cos(3.67803475473 + 796.2980068164 * t);
-        Z0 += 0.00000116766 * Math.cos(4.86913583010 + 2942.4634232916 * t);
-        Z0 += 0.00000112925 * Math.cos(5.76548397681 + 3738.761430108 * t);
-        Z0 += 0.00000074290 * Math.cos(2.43508234938 + 8962.4553499102 * t);
-        Z0 += 0.00000071989 * Math.cos(5.54217679275 + 3340.545116397 * t);
-        Z0 += 0.00000068644 * Math.cos(5.54532471548 + 6283.0758499914 * t);
-        Z0 += 0.00000071987 * Math.cos(5.13368040597 + 3340.6797370026 * t);
-        Z0 += 0.00000063219 * Math.cos(5.36590967098 + 6684.7479717486 * t);
-        Z0 += 0.00000075858 * Math.cos(4.51645136094 + 3149.1641605882 * t);
-        Z0 += 0.00000063502 * Math.cos(4.16748385740 + 1751.539531416 * t);
-        Z0 += 0.00000063828 * Math.cos(5.98786823499 + 6677.7017350506 * t);
-        Z0 += 0.00000059355 * Math.cos(0.72879549961 + 5884.9268465832 * t);
-        Z0 += 0.00000050332 * Math.cos(1.96033823263 + 2810.9214616052 * t);
-        Z0 += 0.00000051292 * Math.cos(2.64769056433 + 2914.0142358238 * t);
-        Z0 += 0.00000044615 * Math.cos(5.88956380171 + 3532.0606928114 * t);
-        Z0 += 0.00000045001 * Math.cos(2.29942389620 + 1589.0728952838 * t);
-        Z0 += 0.00000045526 * Math.cos(2.27415776311 + 1194.4470102246 * t);
-        Z0 += 0.00000045098 * Math.cos(4.08200115074 + 4136.9104335162 * t);
-        Z0 += 0.00000033148 * Math.cos(2.01609063016 + 5486.777843175 * t);
-        Z0 += 0.00000029003 * Math.cos(2.64937555759 + 426.598190876 * t);
-        Z0 += 0.00000033968 * Math.cos(0.46851841759 + 2544.3144198834 * t);
-        Z0 += 0.00000027697 * Math.cos(5.54319865094 + 191.4482661116 * t);
-        Z0 += 0.00000030473 * Math.cos(4.98782051819 + 3870.3033917944 * t);
-        Z0 += 0.00000022262 * Math.cos(0.19101027284 + 9492.1463150048 * t);
-        Z0 += 0.00000021566 * Math.cos(2.45059201892 + 3333.498879699 * t);
-        Z0 += 0.00000019900 * Math.cos(4.78493597626 + 213.299095438 * t);
-        Z0 += 0.00000019445 * Math.cos(3.36733718353 + 5088.6288397668 * t);
-        Z0 += 0.00000022415 * Math.cos(2.80792353370 + 3496.032826134 * t);
-        Z0 += 0.00000019109 * Math.cos(0.86825937304 + 1592.5960136328 * t);
-        Z0 += 0.00000024101 * Math.cos(2.57371991774 + 4399.994356889 * t);
-        Z0 += 0.00000020382 * Math.cos(3.55004736979 + 6681.2421070518 * t);
-        Z0 += 0.00000019188 * Math.cos(1.51640815942 + 3185.1920272656 * t);
-        Z0 += 0.00000020382 * Math.cos(1.51927573830 + 6681.2075997474 * t);
-        Z0 += 0.00000013488 * Math.cos(2.86475891587 + 3341.592747768 * t);
-        Z0 += 0.00000013492 * Math.cos(1.52791184830 + 3339.6321056316 * t);
-        Z0 += 0.00000011777 * Math.cos(4.79772279974 + 3553.9115221378 * t);
-        Z0 += 0.00000012741 * Math.cos(6.05559229749 + 7079.3738568078 * t);
-        Z0 += 0.00000011907 * Math.cos(1.65033513222 + 6254.6266625236 * t);
-        Z0 += 0.00000011511 * Math.cos(2.75835305381 + 12303.06777661 * t);
-        Z0 += 0.00000011629 * Math.cos(5.45832237690 + 20043.6745601988 * t);
-        Z0 += 0.00000011780 * Math.cos(4.75307421274 + 4690.4798363586 * t);
-        Z0 += 0.00000010587 * Math.cos(6.14125670809 + 7.1135470008 * t);
-        Z0 += 0.00000008746 * Math.cos(1.07533372055 + 9225.539273283 * t);
-        Z0 += 0.00000009300 * Math.cos(5.74426412364 + 1990.745017041 * t);
-        Z0 += 0.00000009010 * Math.cos(5.91031650213 + 9623.6882766912 * t);
-        Z0 += 0.00000009099 * Math.cos(4.14734627288 + 3127.3133312618 * t);
-        Z0 += 0.00000008399 * Math.cos(2.65942772730 + 4535.0594369244 * t);
-        Z0 += 0.00000009575 * Math.cos(0.26669816734 + 10213.285546211 * t);
-        Z0 += 0.00000011208 * Math.cos(2.64763421097 + 8432.7643848156 * t);
-        Z0 += 0.00000008425 * Math.cos(5.67806346712 + 6467.9257579616 * t);
-        Z0 += 0.00000007879 * Math.cos(6.16301318418 + 4292.3308329504 * t);
-        Z0 += 0.00000006986 * Math.cos(1.31599425886 + 3894.1818295422 * t);
-        Z0 += 0.00000007013 * Math.cos(4.83160093113 + 6489.776587288 * t);
-        Z0 += 0.00000006707 * Math.cos(5.47201048198 + 6681.2921637024 * t);
-        Z0 += 0.00000008732 * Math.cos(5.94456391651 + 5092.1519581158 * t);
-        Z0 += 0.00000006427 * Math.cos(6.10941025846 + 4562.4609930212 * t);
-        Z0 += 0.00000008234 * Math.cos(3.68630710748 + 2700.7151403858 * t);
-        Z0 += 0.00000007214 * Math.cos(1.11647593098 + 3319.8370312074 * t);
-        Z0 += 0.00000006128 * Math.cos(4.51741845562 + 1221.8485663214 * t);
-        Z0 += 0.00000006627 * Math.cos(5.70488581385 + 10025.3603984484 * t);
-        Z0 += 0.00000006712 * Math.cos(0.04223488375 + 10018.3141617504 * t);
-        Z0 += 0.00000007157 * Math.cos(3.27593626835 + 3361.3878221922 * t);
-        Z0 += 0.00000005667 * Math.cos(1.84572324920 + 2957.7158944766 * t);
-        Z0 += 0.00000006707 * Math.cos(5.88050686882 + 6681.1575430968 * t);
-        Z0 += 0.00000004916 * Math.cos(2.93046960145 + 2787.0430238574 * t);
-        Z0 += 0.00000004722 * Math.cos(2.41041908083 + 3344.2028553516 * t);
-        Z0 += 0.00000004650 * Math.cos(1.71276888306 + 639.897286314 * t);
-        Z0 += 0.00000004742 * Math.cos(1.97920373919 + 3337.021998048 * t);
-        Z0 += 0.00000004597 * Math.cos(4.41002877977 + 7477.522860216 * t);
-        Z0 += 0.00000005433 * Math.cos(4.33760555117 + 2388.8940204492 * t);
-        Z0 += 0.00000005641 * Math.cos(2.43527331240 + 2118.7638603784 * t);
-        Z0 += 0.00000004363 * Math.cos(2.24320799714 + 11773.3768115154 * t);
-        Z0 += 0.00000004127 * Math.cos(2.04411881734 + 2146.1654164752 * t);
-        Z0 += 0.00000003613 * Math.cos(3.61081984797 + 8429.2412664666 * t);
-        Z0 += 0.00000003478 * Math.cos(2.64660968975 + 4929.6853219836 * t);
-        Z0 += 0.00000003714 * Math.cos(1.76418965622 + 382.8965322232 * t);
-        Z0 += 0.00000003331 * Math.cos(6.17753431621 + 7210.9158184942 * t);
-        Z0 += 0.00000003580 * Math.cos(3.90470994536 + 7903.073419721 * t);
-        Z0 += 0.00000003111 * Math.cos(2.03406809335 + 155.4203994342 * t);
-        Z0 += 0.00000003351 * Math.cos(0.47359753009 + 3475.6775067352 * t);
-        Z0 += 0.00000003025 * Math.cos(1.91083270977 + 9595.2390892234 * t);
-        Z0 += 0.00000003493 * Math.cos(2.25666784516 + 3723.508958923 * t);
-        Z0 += 0.00000003509 * Math.cos(3.91758478184 + 3205.5473466644 * t);
-        Z0 += 0.00000003007 * Math.cos(0.81247341820 + 2274.1169495098 * t);
-        Z0 += 0.00000002982 * Math.cos(3.68257004005 + 2288.3440435114 * t);
-        Z0 += 0.00000002567 * Math.cos(4.96092533051 + 8031.0922630584 * t);
-        Z0 += 0.00000002649 * Math.cos(2.98742483865 + 3767.2106175758 * t);
-        Z0 += 0.00000002322 * Math.cos(1.23249592342 + 4933.2084403326 * t);
-        Z0 += 0.00000002733 * Math.cos(0.51395284395 + 12832.7587417046 * t);
-        Z0 += 0.00000002136 * Math.cos(3.88842223350 + 10021.8545337516 * t);
-        Z0 += 0.00000002136 * Math.cos(1.85765060200 + 10021.8200264472 * t);
-        Z0 += 0.00000002772 * Math.cos(2.43968968772 + 8827.3902698748 * t);
-        Z0 += 0.00000002162 * Math.cos(3.01828376513 + 6041.3275670856 * t);
-        Z0 += 0.00000002091 * Math.cos(3.80489059877 + 6872.6731195112 * t);
-        Z0 += 0.00000002233 * Math.cos(2.94758000961 + 7740.6067835888 * t);
-        Z0 += 0.00000002614 * Math.cos(4.45694073527 + 6674.1113063988 * t);
-        Z0 += 0.00000001930 * Math.cos(5.30759100687 + 1066.49547719 * t);
-        Z0 += 0.00000002513 * Math.cos(0.10458597053 + 3583.3410306738 * t);
-        Z0 += 0.00000002104 * Math.cos(2.45809927011 + 1052.2683831884 * t);
-        Z0 += 0.00000001861 * Math.cos(4.13522134185 + 1349.8674096588 * t);
-        Z0 += 0.00000001728 * Math.cos(2.95584201533 + 12168.0026965746 * t);
-        Z0 += 0.00000001840 * Math.cos(0.20978853293 + 4032.7700279266 * t);
-        Z0 += 0.00000001669 * Math.cos(5.50497155791 + 951.7184062506 * t);
-        Z0 += 0.00000001911 * Math.cos(2.94107630035 + 1748.016413067 * t);
-        Z0 += 0.00000001442 * Math.cos(1.87731237490 + 3077.528503327 * t);
-        Z0 += 0.00000001589 * Math.cos(1.73601297200 + 3369.0616141676 * t);
-        Z0 += 0.00000001379 * Math.cos(0.09013023527 + 10419.9862835076 * t);
-        Z0 += 0.00000001392 * Math.cos(0.27504136647 + 3325.3599555148 * t);
-        Z0 += 0.00000001580 * Math.cos(4.48665176300 + 3.523118349 * t);
-        Z0 += 0.00000001766 * Math.cos(1.85661467458 + 6525.8044539654 * t);
-        Z0 += 0.00000001292 * Math.cos(2.51829136056 + 3603.6963500726 * t);
-        Z0 += 0.00000001297 * Math.cos(5.48481699939 + 11371.7046897582 * t);
-        Z0 += 0.00000001613 * Math.cos(0.62341029242 + 553.5694028424 * t);
-        Z0 += 0.00000001384 * Math.cos(4.11719633248 + 3355.8648978848 * t);
-        Z0 += 0.00000001261 * Math.cos(1.86730474733 + 6680.2445323314 * t);
-        Z0 += 0.00000001610 * Math.cos(2.65671079949 + 3312.163239232 * t);
-        Z0 += 0.00000001274 * Math.cos(0.55350948232 + 3191.0492295652 * t);
-        Z0 += 0.00000001704 * Math.cos(4.50757815133 + 3097.88382272579 * t);
-        Z0 += 0.00000001460 * Math.cos(0.04101454115 + 7632.9432596502 * t);
-        Z0 += 0.00000001242 * Math.cos(5.75816506092 + 149.5631971346 * t);
-        Z0 += 0.00000001230 * Math.cos(1.10948154340 + 536.8045120954 * t);
-        Z0 += 0.00000001216 * Math.cos(2.98306649362 + 6836.6452528338 * t);
-        Z0 += 0.00000001161 * Math.cos(4.60505013406 + 1648.4467571974 * t);
-        Z0 += 0.00000001579 * Math.cos(3.09053337023 + 15643.6802033098 * t);
-        Z0 += 0.00000001118 * Math.cos(6.05429252683 + 9808.5381846614 * t);
-        Z0 += 0.00000001376 * Math.cos(0.81116680514 + 3503.079062832 * t);
-        Z0 += 0.00000001101 * Math.cos(4.62263227757 + 522.5774180938 * t);
-        Z0 += 0.00000001320 * Math.cos(3.23812050004 + 3347.7259737006 * t);
-        Z0 += 0.00000001419 * Math.cos(0.32932000507 + 3264.3463554242 * t);
-        Z0 += 0.00000001103 * Math.cos(5.79565205719 + 6894.5239488376 * t);
-        Z0 += 0.00000001257 * Math.cos(3.20326473314 + 6682.2051744678 * t);
-        Z0 += 0.00000000968 * Math.cos(4.43650051215 + 103.0927742186 * t);
-        Z0 += 0.00000001004 * Math.cos(4.71380449727 + 2487.4160449478 * t);
-        Z0 += 0.00000001014 * Math.cos(0.55883970461 + 10973.55568635 * t);
-        Z0 += 0.00000000950 * Math.cos(2.98201757904 + 3178.1457905676 * t);
-        Z0 += 0.00000000958 * Math.cos(1.45300862079 + 12566.1516999828 * t);
-        Z0 += 0.00000000964 * Math.cos(5.98684645223 + 242.728603974 * t);
-        Z0 += 0.00000000925 * Math.cos(5.46131905325 + 5614.7293762096 * t);
-        Z0 += 0.00000000935 * Math.cos(4.94933845312 + 1758.6530784168 * t);
-        Z0 += 0.00000001171 * Math.cos(5.79646129252 + 23384.2869868986 * t);
-        Z0 += 0.00000000969 * Math.cos(2.65689194156 + 2648.454825473 * t);
-        Z0 += 0.00000000853 * Math.cos(4.81086337808 + 15110.4661198662 * t);
-        Z0 += 0.00000000901 * Math.cos(5.67928823390 + 2921.1277828246 * t);
-        Z0 += 0.00000001125 * Math.cos(6.27341969245 + 12964.300703391 * t);
-        Z0 += 0.00000000844 * Math.cos(2.97906384874 + 7875.6718636242 * t);
-        Z0 += 0.00000000811 * Math.cos(0.19379046862 + 3346.1353510072 * t);
-        Z0 += 0.00000000812 * Math.cos(4.19639785587 + 3335.0895023924 * t);
-        Z0 += 0.00000000774 * Math.cos(1.38696439205 + 7234.794256242 * t);
-        Z0 += 0.00000000761 * Math.cos(1.99221081181 + 26087.9031415742 * t);
-        Z0 += 0.00000000742 * Math.cos(0.37908087243 + 13358.9265884502 * t);
-        Z0 += 0.00000000732 * Math.cos(5.16784948008 + 9830.3890139878 * t);
-        Z0 += 0.00000000946 * Math.cos(1.88936722079 + 5628.9564702112 * t);
-        Z0 += 0.00000000820 * Math.cos(4.37824637524 + 7373.3824546264 * t);
-        Z0 += 0.00000000671 * Math.cos(5.25224406605 + 76.2660712756 * t);
-        Z0 += 0.00000000785 * Math.cos(4.59990880607 + 6438.4962494256 * t);
-        Z0 += 0.00000000668 * Math.cos(3.61130377946 + 6702.000248892 * t);
-        Z0 += 0.00000000655 * Math.cos(2.60002275981 + 11243.6858464208 * t);
-        Z0 += 0.00000000760 * Math.cos(3.03501058836 + 3360.96774609859 * t);
-        Z0 += 0.00000000764 * Math.cos(4.37581912554 + 11769.8536931664 * t);
-        Z0 += 0.00000000704 * Math.cos(5.80908299008 + 10021.9045904022 * t);
-        Z0 += 0.00000000840 * Math.cos(6.11799044851 + 5331.3574437408 * t);
-        Z0 += 0.00000000641 * Math.cos(1.73269627789 + 1692.1656695024 * t);
-        Z0 += 0.00000000629 * Math.cos(1.09880202633 + 14314.1681130498 * t);
-        Z0 += 0.00000000704 * Math.cos(6.21757937692 + 10021.7699697966 * t);
-        Z0 += 0.00000000646 * Math.cos(3.01919436853 + 9381.9399937854 * t);
-        Z0 += 0.00000000612 * Math.cos(3.40750819704 + 10713.9948813262 * t);
-        Z0 += 0.00000000732 * Math.cos(6.04237219046 + 13365.9728251482 * t);
-        Z0 += 0.00000000771 * Math.cos(2.47252701375 + 15113.9892382152 * t);
-        Z0 += 0.00000000621 * Math.cos(5.85690842904 + 3351.2490920496 * t);
-        Z0 += 0.00000000767 * Math.cos(1.35441792357 + 3320.257107301 * t);
-        Z0 += 0.00000000586 * Math.cos(0.79051565116 + 853.196381752 * t);
-        Z0 += 0.00000000692 * Math.cos(1.46718257115 + 6660.4494579072 * t);
-        Z0 += 0.00000000669 * Math.cos(0.51352618116 + 7064.1213856228 * t);
-        Z0 += 0.00000000528 * Math.cos(3.12611933096 + 74.7815985673 * t);
-        Z0 += 0.00000000600 * Math.cos(5.04547651146 + 692.1576012268 * t);
-        Z0 += 0.00000000630 * Math.cos(1.58386830258 + 1581.959348283 * t);
-        Z0 += 0.00000000623 * Math.cos(4.81491846507 + 3329.97576135 * t);
-        Z0 += 0.00000000661 * Math.cos(2.79286199869 + 2906.900688823 * t);
-        Z0 += 0.00000000570 * Math.cos(4.61307898923 + 3074.005384978 * t);
-        Z0 += 0.00000000524 * Math.cos(6.05770135572 + 3607.2194684216 * t);
-        Z0 += 0.00000000516 * Math.cos(2.43629649577 + 13916.0191096416 * t);
-        Z0 += 0.00000000507 * Math.cos(2.02939502894 + 3333.5661900018 * t);
-        Z0 += 0.00000000605 * Math.cos(1.93804011864 + 10575.4066829418 * t);
-        Z0 += 0.00000000488 * Math.cos(4.67812564849 + 5729.506447149 * t);
-        Z0 += 0.00000000465 * Math.cos(5.56224766580 + 8955.3418029094 * t);
-        Z0 += 0.00000000467 * Math.cos(3.02812406788 + 6144.4203413042 * t);
-        Z0 += 0.00000000524 * Math.cos(2.17529898104 + 6298.3283211764 * t);
-        Z0 += 0.00000000449 * Math.cos(4.27905913954 + 6546.1597733642 * t);
-        Z0 += 0.00000000442 * Math.cos(2.21279250958 + 3347.6586633978 * t);
-        Z0 += 0.00000000442 * Math.cos(0.35835774849 + 18052.9295431578 * t);
-        Z0 += 0.00000000452 * Math.cos(4.74868579573 + 5828.0284716476 * t);
-        Z0 += 0.00000000444 * Math.cos(2.31126753824 + 6677.6344247478 * t);
-        Z0 += 0.00000000454 * Math.cos(5.96502230469 + 419.4846438752 * t);
-        Z0 += 0.00000000457 * Math.cos(2.76482172070 + 5459.3762870782 * t);
-        Z0 += 0.00000000452 * Math.cos(2.18667537557 + 12935.8515159232 * t);
-        Z0 += 0.00000000440 * Math.cos(2.28024553720 + 8969.568896911 * t);
-        Z0 += 0.00000000439 * Math.cos(3.26823913184 + 6127.6554505572 * t);
-        Z0 += 0.00000000417 * Math.cos(2.62418009712 + 433.7117378768 * t);
-        Z0 += 0.00000000450 * Math.cos(4.97549718782 + 6531.661656265 * t);
-        Z0 += 0.00000000467 * Math.cos(5.81074791371 + 6158.6474353058 * t);
-        Z0 += 0.00000000430 * Math.cos(4.78793443738 + 3863.1898447936 * t);
-        Z0 += 0.00000000409 * Math.cos(1.99836071636 + 3980.5097130138 * t);
-        Z0 += 0.00000000399 * Math.cos(4.74255258433 + 10818.1352869158 * t);
-        Z0 += 0.00000000453 * Math.cos(6.26634249241 + 14712.317116458 * t);
-        Z0 += 0.00000000437 * Math.cos(2.74634913436 + 6684.8152820514 * t);
-        Z0 += 0.00000000400 * Math.cos(2.77865299135 + 4989.0591838972 * t);
-        Z0 += 0.00000000506 * Math.cos(1.18461823734 + 1744.4259844152 * t);
-        Z0 += 0.00000000403 * Math.cos(5.36937826882 + 1596.1864422846 * t);
-        Z0 += 0.00000000380 * Math.cos(4.97818849120 + 10014.7237330986 * t);
-        Z0 += 0.00000000371 * Math.cos(3.33405966002 + 10177.2576795336 * t);
-        Z0 += 0.00000000361 * Math.cos(5.24088703687 + 2178.137722292 * t);
-        Z0 += 0.00000000400 * Math.cos(1.62063267593 + 14584.2982731206 * t);
-        Z0 += 0.00000000403 * Math.cos(1.82423390219 + 3399.9862886134 * t);
-        Z0 += 0.00000000410 * Math.cos(4.54392931383 + 3344.4937620578 * t);
-        Z0 += 0.00000000418 * Math.cos(4.88395861492 + 3443.7052009184 * t);
-        Z0 += 0.00000000341 * Math.cos(3.76526341028 + 6688.3384004004 * t);
-        Z0 += 0.00000000387 * Math.cos(2.20624213901 + 3281.2385647862 * t);
-        Z0 += 0.00000000328 * Math.cos(1.60706573380 + 3546.797975137 * t);
-        Z0 += 0.00000000346 * Math.cos(5.93876607715 + 3364.4908644476 * t);
-        Z0 += 0.00000000427 * Math.cos(0.42766619939 + 10551.528245194 * t);
-        Z0 += 0.00000000333 * Math.cos(2.97391198780 + 17256.6315363414 * t);
-        Z0 += 0.00000000351 * Math.cos(0.89374033083 + 16173.3711684044 * t);
-        Z0 += 0.00000000387 * Math.cos(5.50555914948 + 3973.396166013 * t);
-        Z0 += 0.00000000410 * Math.cos(6.13790219128 + 3336.7310913418 * t);
-        Z0 += 0.00000000349 * Math.cos(4.74282066857 + 3316.733988952 * t);
-        Z0 += 0.00000000366 * Math.cos(0.54436256149 + 110.2063212194 * t);
-        Z0 += 0.00000000284 * Math.cos(2.49529211057 + 6784.3176276182 * t);
-        Z0 += 0.00000000338 * Math.cos(3.01411006339 + 8270.2977486834 * t);
-        Z0 += 0.00000000279 * Math.cos(0.15295518242 + 135.0650800354 * t);
-        Z0 += 0.00000000290 * Math.cos(4.30595018325 + 16858.4825329332 * t);
-        Z0 += 0.00000000277 * Math.cos(3.21266616465 + 8329.671610597 * t);
-        Z0 += 0.00000000303 * Math.cos(4.39325865345 + 2818.035008606 * t);
-        Z0 += 0.00000000302 * Math.cos(5.76020823903 + 2384.3232707292 * t);
-        Z0 += 0.00000000360 * Math.cos(0.81576341528 + 6816.289933435 * t);
-        Z0 += 0.00000000287 * Math.cos(5.89677690833 + 3340.19235060619 * t);
-        Z0 += 0.00000000300 * Math.cos(3.61030466166 + 3304.5845600224 * t);
-        Z0 += 0.00000000264 * Math.cos(5.45859266580 + 6604.958782124 * t);
-        Z0 += 0.00000000330 * Math.cos(3.81421832191 + 13517.8701062334 * t);
-        Z0 += 0.00000000287 * Math.cos(4.78503735880 + 3341.0325027934 * t);
-        Z0 += 0.00000000343 * Math.cos(1.02525479822 + 3230.4061054804 * t);
-        Z0 += 0.00000000246 * Math.cos(2.64795288862 + 3304.0070613956 * t);
-        Z0 += 0.00000000310 * Math.cos(1.76905174573 + 10404.7338123226 * t);
-        Z0 += 0.00000000241 * Math.cos(3.33235757149 + 11081.2192102886 * t);
-        Z0 += 0.00000000245 * Math.cos(1.00254307216 + 3209.0704650134 * t);
-        Z0 += 0.00000000295 * Math.cos(0.78856158130 + 3376.6402933772 * t);
-        Z0 += 0.00000000247 * Math.cos(4.74687572675 + 9779.1086761254 * t);
-        Z0 += 0.00000000241 * Math.cos(1.74832761256 + 3377.217792004 * t);
-        Z0 += 0.00000000264 * Math.cos(1.82146900201 + 17654.7805397496 * t);
-        Z0 += 0.00000000274 * Math.cos(2.60650323538 + 3657.0042963564 * t);
-        Z0 += 0.00000000238 * Math.cos(0.43806562773 + 6923.9534573736 * t);
-        Z0 += 0.00000000227 * Math.cos(2.88048108848 + 3415.3940252671 * t);
-        Z0 += 0.00000000300 * Math.cos(0.70241789966 + 3134.4268782626 * t);
-        Z0 += 0.00000000237 * Math.cos(2.19737291235 + 13362.432453147 * t);
-        Z0 += 0.00000000220 * Math.cos(1.43836209680 + 6606.4432548323 * t);
-        Z0 += 0.00000000222 * Math.cos(3.39627559384 + 3472.1543883862 * t);
-        Z0 += 0.00000000217 * Math.cos(2.18530503085 + 20995.3929664494 * t);
-        Z0 += 0.00000000254 * Math.cos(2.93819031378 + 5085.038411115 * t);
-        Z0 += 0.00000000236 * Math.cos(4.23042638023 + 13362.4669604514 * t);
-        Z0 += 0.00000000242 * Math.cos(0.41755696147 + 1861.7458526354 * t);
-        Z0 += 0.00000000285 * Math.cos(0.10171887281 + 17085.9586657222 * t);
-        Z0 += 0.00000000218 * Math.cos(0.33151885058 + 16304.9131300908 * t);
-        Z0 += 0.00000000215 * Math.cos(5.26457047836 + 1375.7737998458 * t);
-        Z0 += 0.00000000207 * Math.cos(3.60591178333 + 7107.8230442756 * t);
-        Z0 += 0.00000000196 * Math.cos(3.34505476799 + 8439.8779318164 * t);
-        Z0 += 0.00000000192 * Math.cos(5.08475415071 + 13119.72110282519 * t);
-        Z0 += 0.00000000269 * Math.cos(0.19698472851 + 3024.2205570432 * t);
-        Z0 += 0.00000000194 * Math.cos(4.52507414451 + 220.4126424388 * t);
-        Z0 += 0.00000000186 * Math.cos(1.75940958561 + 2221.856634597 * t);
-        Z0 += 0.00000000194 * Math.cos(3.41534671398 + 18984.2926300096 * t);
-        Z0 += 0.00000000208 * Math.cos(3.02738720944 + 3511.285297319 * t);
-        Z0 += 0.00000000204 * Math.cos(6.00463791835 + 162.4666361322 * t);
-        Z0 += 0.00000000183 * Math.cos(3.62962279261 + 9168.6408983474 * t);
-        Z0 += 0.00000000175 * Math.cos(4.04165128738 + 3760.097070575 * t);
-        Z0 += 0.00000000174 * Math.cos(4.51117927233 + 23539.7073863328 * t);
-        Z0 += 0.00000000193 * Math.cos(5.88968824988 + 2803.8079146044 * t);
-        Z0 += 0.00000000190 * Math.cos(6.17637484900 + 13745.3462390224 * t);
-        Z0 += 0.00000000208 * Math.cos(3.34809361979 + 3341.0423098265 * t);
-        Z0 += 0.00000000198 * Math.cos(0.97311347960 + 3265.8308281325 * t);
-        Z0 += 0.00000000205 * Math.cos(4.20157952693 + 6843.6914895318 * t);
-        Z0 += 0.00000000222 * Math.cos(1.37049171707 + 3169.9395560806 * t);
-        Z0 += 0.00000000183 * Math.cos(2.19041678580 + 9866.4168806652 * t);
-        Z0 += 0.00000000225 * Math.cos(0.32450219510 + 13149.1506113612 * t);
-        Z0 += 0.00000000211 * Math.cos(4.38136759956 + 640.8776073822 * t);
-        Z0 += 0.00000000200 * Math.cos(3.00112781370 + 1162.4747044078 * t);
-        Z0 += 0.00000000208 * Math.cos(6.18496348629 + 1478.8665740644 * t);
-        Z0 += 0.00000000173 * Math.cos(3.90520749444 + 5099.2655051166 * t);
-        Z0 += 0.00000000175 * Math.cos(0.38064797785 + 956.2891559706 * t);
-        Z0 += 0.00000000158 * Math.cos(2.98574812713 + 13524.9163429314 * t);
-        Z0 += 0.00000000170 * Math.cos(3.37406232659 + 15508.6151232744 * t);
-        Z0 += 0.00000000184 * Math.cos(2.09449845330 + 949.1756089698 * t);
-        Z0 += 0.00000000171 * Math.cos(4.75570011379 + 6261.7402095244 * t);
-        Z0 += 0.00000000188 * Math.cos(5.56241899175 + 16460.33352952499 * t);
-        Z0 += 0.00000000205 * Math.cos(5.01940138208 + 1118.7557921028 * t);
-        Z0 += 0.00000000156 * Math.cos(3.68058177082 + 13553.8979729108 * t);
-        Z0 += 0.00000000170 * Math.cos(2.00050957424 + 224.3447957019 * t);
-        Z0 += 0.00000000208 * Math.cos(1.04576950390 + 3340.1825435731 * t);
-        Z0 += 0.00000000156 * Math.cos(4.90620162208 + 20199.094959633 * t);
-        Z0 += 0.00000000174 * Math.cos(5.58778318130 + 2766.267628365 * t);
-        Z0 += 0.00000000169 * Math.cos(3.71127165203 + 10184.3039162316 * t);
-        Z0 += 0.00000000171 * Math.cos(3.60600294119 + 20597.2439630412 * t);
-        Z0 += 0.00000000140 * Math.cos(1.54110979029 + 2111.6503133776 * t);
-        Z0 += 0.00000000145 * Math.cos(6.17161140540 + 19800.9459562248 * t);
-        Z0 += 0.00000000156 * Math.cos(0.43599559375 + 4459.3682188026 * t);
-        Z0 += 0.00000000143 * Math.cos(0.19892133285 + 10235.1363755374 * t);
-        Z0 += 0.00000000184 * Math.cos(1.58017928752 + 8273.8208670324 * t);
-        Z0 += 0.00000000133 * Math.cos(2.86759235449 + 20618.0193585336 * t);
-        Z0 += 0.00000000151 * Math.cos(1.59809012076 + 13892.1406718938 * t);
-        Z0 += 0.00000000133 * Math.cos(6.14918807002 + 17277.4069318338 * t);
-        Z0 += 0.00000000167 * Math.cos(0.94707767481 + 3274.1250177854 * t);
-        Z0 += 0.00000000143 * Math.cos(4.48621138334 + 632.7837393132 * t);
-        Z0 += 0.00000000126 * Math.cos(4.54286582844 + 3914.9572250346 * t);
-        Z0 += 0.00000000145 * Math.cos(2.88581037055 + 4392.8808098882 * t);
-        Z0 += 0.00000000165 * Math.cos(5.44939669734 + 1228.9621133222 * t);
-        Z0 += 0.00000000124 * Math.cos(2.73197400851 + 3407.0998356142 * t);
-        Z0 += 0.00000000145 * Math.cos(5.65866985683 + 4407.1079038898 * t);
-        Z0 += 0.00000000164 * Math.cos(2.20529053904 + 38.1330356378 * t);
-        Z0 += 0.00000000158 * Math.cos(1.72206104768 + 3296.8935143948 * t);
-        Z0 += 0.00000000116 * Math.cos(0.02904609570 + 26482.1708096244 * t);
-        Z0 += 0.00000000156 * Math.cos(1.25691413032 + 3384.3313390048 * t);
-        Z0 += 0.00000000117 * Math.cos(4.96153079924 + 3981.490034082 * t);
-        Z0 += 0.00000000154 * Math.cos(2.17255031800 + 1964.838626854 * t);
-        Z0 += 0.00000000113 * Math.cos(3.06854044437 + 206.1855484372 * t);
-        Z0 += 0.00000000117 * Math.cos(2.13763640035 + 29424.634232916 * t);
-        Z0 += 0.00000000129 * Math.cos(2.20198223551 + 3450.8187479192 * t);
-        Z0 += 0.00000000115 * Math.cos(5.24850953150 + 3237.5196524812 * t);
-        Z0 += 0.00000000112 * Math.cos(6.26358102825 + 2125.8774073792 * t);
-        Z0 += 0.00000000112 * Math.cos(4.67861613977 + 2807.3983432562 * t);
-        Z0 += 0.00000000115 * Math.cos(0.38603739544 + 12721.572099417 * t);
-        Z0 += 0.00000000113 * Math.cos(1.36558076768 + 6709.6740408674 * t);
-        Z0 += 0.00000000144 * Math.cos(0.22567806033 + 263.0839233728 * t);
-        Z0 += 0.00000000109 * Math.cos(5.27187307952 + 5518.7501489918 * t);
-        Z0 += 0.00000000125 * Math.cos(2.20397088123 + 30220.9322397324 * t);
-        Z0 += 0.00000000108 * Math.cos(6.20219802547 + 6665.9723822146 * t);
-        Z0 += 0.00000000127 * Math.cos(2.68652319514 + 7321.1221397136 * t);
-        Z0 += 0.00000000110 * Math.cos(0.18586807658 + 29822.7832363242 * t);
-        Z0 += 0.00000000107 * Math.cos(0.50226646577 + 22743.4093795164 * t);
-        Z0 += 0.00000000107 * Math.cos(3.59856046864 + 5989.0672521728 * t);
-        Z0 += 0.00000000106 * Math.cos(5.69966166034 + 33561.5446664322 * t);
-        Z0 += 0.00000000105 * Math.cos(3.97375976080 + 9380.9596727172 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 232 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00331842958 * Math.cos(6.05027773492 + 3340.6124266998 * t);
-        Z1 -= 0.00047930411;
-        Z1 += 0.00009896501 * Math.cos(1.61155844715 + 6681.2248533996 * t);
-        Z1 += 0.00001700147 * Math.cos(2.63703242065 + 10021.8372800994 * t);
-        Z1 += 0.00000240176 * Math.cos(3.12712303414 + 13362.4497067992 * t);
-        Z1 += 0.00000114908 * Math.cos(0.95987621952 + 3337.0893083508 * t);
-        Z1 += 0.00000045174 * Math.cos(3.39965147567 + 3344.1355450488 * t);
-        Z1 += 0.00000041579 * Math.cos(2.22748839237 + 2281.2304965106 * t);
-        Z1 += 0.00000031106 * Math.cos(3.52760107307 + 16703.062133499 * t);
-        Z1 += 0.00000022409 * Math.cos(3.73415090010 + 5621.8429232104 * t);
-        Z1 += 0.00000024694 * Math.cos(0.56373112343 + 529.6909650946 * t);
-        Z1 += 0.00000020211 * Math.cos(6.13722966551 + 1059.3819301892 * t);
-        Z1 += 0.00000016081 * Math.cos(0.74382156251 + 2942.4634232916 * t);
-        Z1 += 0.00000014813 * Math.cos(5.49499542641 + 3340.629680352 * t);
-        Z1 += 0.00000014813 * Math.cos(3.46422358566 + 3340.5951730476 * t);
-        Z1 += 0.00000016942 * Math.cos(1.91917177965 + 3532.0606928114 * t);
-        Z1 += 0.00000011449 * Math.cos(6.22900609249 + 2810.9214616052 * t);
-        Z1 += 0.00000011579 * Math.cos(0.76965497835 + 398.1490034082 * t);
-        Z1 += 0.00000012609 * Math.cos(4.39901271761 + 3496.032826134 * t);
-        Z1 += 0.00000013077 * Math.cos(2.01113624837 + 2544.3144198834 * t);
-        Z1 += 0.00000009983 * Math.cos(6.22961426585 + 3185.1920272656 * t);
-        Z1 += 0.00000009112 * Math.cos(3.83699360404 + 6684.7479717486 * t);
-        Z1 += 0.00000009113 * Math.cos(3.13081230007 + 3738.761430108 * t);
-        Z1 += 0.00000008702 * Math.cos(2.50173196599 + 5884.9268465832 * t);
-        Z1 += 0.00000009628 * Math.cos(2.17998735640 + 6151.533888305 * t);
-        Z1 += 0.00000008141 * Math.cos(2.28833672455 + 3149.1641605882 * t);
-        Z1 += 0.00000005865 * Math.cos(1.21189730830 + 6677.7017350506 * t);
-        Z1 += 0.00000005111 * Math.cos(2.48436031878 + 1751.539531416 * t);
-        Z1 += 0.00000005432 * Math.cos(1.11528937942 + 796.2980068164 * t);
-        Z1 += 0.00000004878 * Math.cos(1.13276481337 + 3340.6797370026 * t);
-        Z1 += 0.00000005354 * Math.cos(2.17844612869 + 4136.9104335162 * t);
-        Z1 += 0.00000004937 * Math.cos(4.54706347937 + 8962.4553499102 * t);
-        Z1 += 0.00000004817 * Math.cos(0.99936257717 + 2914.0142358238 * t);
-        Z1 += 0.00000004978 * Math.cos(0.42028381998 + 1194.4470102246 * t);
-        Z1 += 0.00000004388 * Math.cos(4.00376892513 + 5092.1519581158 * t);
-        Z1 += 0.00000004016 * Math.cos(3.25291411222 + 3339.6321056316 * t);
-        Z1 += 0.00000004876 * Math.cos(1.53898509406 + 3340.545116397 * t);
-        Z1 += 0.00000004597 * Math.cos(1.56379087387 + 6283.0758499914 * t);
-        Z1 += 0.00000004674 * Math.cos(3.93431019327 + 5486.777843175 * t);
-        Z1 += 0.00000003907 * Math.cos(3.89954335391 + 20043.6745601988 * t);
-        Z1 += 0.00000003595 * Math.cos(5.45219310813 + 1592.5960136328 * t);
-        Z1 += 0.00000003375 * Math.cos(3.44635837371 + 2146.1654164752 * t);
-        Z1 += 0.00000003336 * Math.cos(5.20503259965 + 5088.6288397668 * t);
-        Z1 += 0.00000003313 * Math.cos(2.58038243859 + 3870.3033917944 * t);
-        Z1 += 0.00000002887 * Math.cos(2.94891175550 + 3894.1818295422 * t);
-        Z1 += 0.00000002995 * Math.cos(0.74761803993 + 4399.994356889 * t);
-        Z1 += 0.00000002657 * Math.cos(1.05973335133 + 3341.592747768 * t);
-        Z1 += 0.00000002425 * Math.cos(4.10643839121 + 1990.745017041 * t);
-        Z1 += 0.00000002707 * Math.cos(0.21082942855 + 4690.4798363586 * t);
-        Z1 += 0.00000002437 * Math.cos(1.55037887709 + 4292.3308329504 * t);
-        Z1 += 0.00000002669 * Math.cos(0.40877211523 + 1589.0728952838 * t);
-        Z1 += 0.00000002154 * Math.cos(1.34196532034 + 2787.0430238574 * t);
-        Z1 += 0.00000002375 * Math.cos(5.44579536089 + 3127.3133312618 * t);
-        Z1 += 0.00000001753 * Math.cos(3.92388178094 + 7.1135470008 * t);
-        Z1 += 0.00000001650 * Math.cos(4.24815484143 + 3723.508958923 * t);
-        Z1 += 0.00000001595 * Math.cos(0.91889240925 + 4535.0594369244 * t);
-        Z1 += 0.00000001929 * Math.cos(2.73824451634 + 2388.8940204492 * t);
-        Z1 += 0.00000001444 * Math.cos(0.15895080264 + 2957.7158944766 * t);
-        Z1 += 0.00000001405 * Math.cos(3.64849603977 + 155.4203994342 * t);
-        Z1 += 0.00000001453 * Math.cos(0.57347650924 + 426.598190876 * t);
-        Z1 += 0.00000001471 * Math.cos(4.20495798401 + 10025.3603984484 * t);
-        Z1 += 0.00000001318 * Math.cos(0.40890394627 + 213.299095438 * t);
-        Z1 += 0.00000001523 * Math.cos(4.04272530212 + 7079.3738568078 * t);
-        Z1 += 0.00000001553 * Math.cos(5.95800074808 + 3097.88382272579 * t);
-        Z1 += 0.00000001436 * Math.cos(3.01319373979 + 6254.6266625236 * t);
-        Z1 += 0.00000001520 * Math.cos(4.82580321630 + 3583.3410306738 * t);
-        Z1 += 0.00000001347 * Math.cos(1.63836991777 + 191.4482661116 * t);
-        Z1 += 0.00000001178 * Math.cos(4.84813144707 + 1748.016413067 * t);
-        Z1 += 0.00000001068 * Math.cos(4.78083964620 + 8432.7643848156 * t);
-        Z1 += 0.00000001207 * Math.cos(2.94341645482 + 6489.776587288 * t);
-        Z1 += 0.00000000884 * Math.cos(5.30840180453 + 6681.2075997474 * t);
-        Z1 += 0.00000000900 * Math.cos(2.90436997781 + 3553.9115221378 * t);
-        Z1 += 0.00000000922 * Math.cos(2.71708263246 + 7477.522860216 * t);
-        Z1 += 0.00000000884 * Math.cos(1.05598798263 + 6681.2421070518 * t);
-        Z1 += 0.00000001004 * Math.cos(2.08646328422 + 2288.3440435114 * t);
-        Z1 += 0.00000000821 * Math.cos(0.50918826840 + 6674.1113063988 * t);
-        Z1 += 0.00000001013 * Math.cos(4.01590051998 + 9492.1463150048 * t);
-        Z1 += 0.00000000969 * Math.cos(1.31742925335 + 3333.498879699 * t);
-        Z1 += 0.00000000766 * Math.cos(2.75216606760 + 9225.539273283 * t);
-        Z1 += 0.00000001056 * Math.cos(0.30211067524 + 6525.8044539654 * t);
-        Z1 += 0.00000000721 * Math.cos(4.45548872348 + 4562.4609930212 * t);
-        Z1 += 0.00000000657 * Math.cos(3.57584237140 + 1066.49547719 * t);
-        Z1 += 0.00000000637 * Math.cos(2.65140853163 + 2274.1169495098 * t);
-        Z1 += 0.00000000710 * Math.cos(5.97976165391 + 639.897286314 * t);
-        Z1 += 0.00000000696 * Math.cos(3.46051409766 + 382.8965322232 * t);
-        Z1 += 0.00000000608 * Math.cos(5.86051939698 + 4933.2084403326 * t);
-        Z1 += 0.00000000667 * Math.cos(6.06355547392 + 1349.8674096588 * t);
-        Z1 += 0.00000000573 * Math.cos(0.99737613450 + 951.7184062506 * t);
-        Z1 += 0.00000000591 * Math.cos(1.92029762929 + 3325.3599555148 * t);
-        Z1 += 0.00000000711 * Math.cos(2.28848181506 + 553.5694028424 * t);
-        Z1 += 0.00000000515 * Math.cos(5.51446088347 + 3361.3878221922 * t);
-        Z1 += 0.00000000541 * Math.cos(4.53250433908 + 6836.6452528338 * t);
-        Z1 += 0.00000000546 * Math.cos(2.64939261840 + 1221.8485663214 * t);
-        Z1 += 0.00000000578 * Math.cos(4.59190674427 + 3360.96774609859 * t);
-        Z1 += 0.00000000511 * Math.cos(4.39136424744 + 242.728603974 * t);
-        Z1 += 0.00000000493 * Math.cos(1.51453356449 + 6467.9257579616 * t);
-        Z1 += 0.00000000487 * Math.cos(5.76370767302 + 3205.5473466644 * t);
-        Z1 += 0.00000000463 * Math.cos(0.99068109709 + 4929.6853219836 * t);
-        Z1 += 0.00000000604 * Math.cos(4.38767184707 + 1052.2683831884 * t);
-        Z1 += 0.00000000462 * Math.cos(3.45792563670 + 3319.8370312074 * t);
-        Z1 += 0.00000000442 * Math.cos(4.14870457392 + 6041.3275670856 * t);
-        Z1 += 0.00000000479 * Math.cos(1.97057249483 + 10213.285546211 * t);
-        Z1 += 0.00000000477 * Math.cos(1.29132635006 + 3347.7259737006 * t);
-        Z1 += 0.00000000424 * Math.cos(0.17271442573 + 522.5774180938 * t);
-        Z1 += 0.00000000447 * Math.cos(2.44807015440 + 3355.8648978848 * t);
-        Z1 += 0.00000000395 * Math.cos(0.74904985730 + 5614.7293762096 * t);
-        Z1 += 0.00000000516 * Math.cos(6.08458990599 + 3320.257107301 * t);
-        Z1 += 0.00000000438 * Math.cos(1.29035103833 + 7740.6067835888 * t);
-        Z1 += 0.00000000484 * Math.cos(4.25897353296 + 23384.2869868986 * t);
-        Z1 += 0.00000000477 * Math.cos(0.34212243439 + 2700.7151403858 * t);
-        Z1 += 0.00000000415 * Math.cos(0.30661716598 + 12303.06777661 * t);
-        Z1 += 0.00000000396 * Math.cos(1.10712980146 + 2118.7638603784 * t);
-        Z1 += 0.00000000435 * Math.cos(3.69772502222 + 7210.9158184942 * t);
-        Z1 += 0.00000000388 * Math.cos(6.25800132393 + 6438.4962494256 * t);
-        Z1 += 0.00000000469 * Math.cos(3.94488775543 + 8827.3902698748 * t);
-        Z1 += 0.00000000341 * Math.cos(1.37941086735 + 3767.2106175758 * t);
-        Z1 += 0.00000000341 * Math.cos(1.49962309683 + 6682.2051744678 * t);
-        Z1 += 0.00000000338 * Math.cos(5.55906074360 + 536.8045120954 * t);
-        Z1 += 0.00000000291 * Math.cos(3.38716490010 + 6681.1575430968 * t);
-        Z1 += 0.00000000286 * Math.cos(4.61337372260 + 10419.9862835076 * t);
-        Z1 += 0.00000000298 * Math.cos(5.02335774639 + 12832.7587417046 * t);
-        Z1 += 0.00000000278 * Math.cos(3.96374902099 + 2921.1277828246 * t);
-        Z1 += 0.00000000271 * Math.cos(3.64021714596 + 6680.2445323314 * t);
-        Z1 += 0.00000000317 * Math.cos(4.41640100211 + 3337.021998048 * t);
-        Z1 += 0.00000000316 * Math.cos(4.84749260614 + 3344.2028553516 * t);
-        Z1 += 0.00000000238 * Math.cos(1.69500091019 + 6127.6554505572 * t);
-        Z1 += 0.00000000229 * Math.cos(1.25926585958 + 7875.6718636242 * t);
-        Z1 += 0.00000000311 * Math.cos(4.47336599498 + 5331.3574437408 * t);
-        Z1 += 0.00000000227 * Math.cos(2.07959309341 + 10021.8545337516 * t);
-        Z1 += 0.00000000291 * Math.cos(2.97870352125 + 6681.2921637024 * t);
-        Z1 += 0.00000000281 * Math.cos(5.09122041999 + 7903.073419721 * t);
-        Z1 += 0.00000000227 * Math.cos(0.04882339645 + 10021.8200264472 * t);
-        Z1 += 0.00000000283 * Math.cos(3.18659167678 + 9623.6882766912 * t);
-        Z1 += 0.00000000217 * Math.cos(3.07439801130 + 5729.506447149 * t);
-        Z1 += 0.00000000221 * Math.cos(4.53139041634 + 3312.163239232 * t);
-        Z1 += 0.00000000204 * Math.cos(4.52559015591 + 12168.0026965746 * t);
-        Z1 += 0.00000000207 * Math.cos(2.80641141402 + 6872.6731195112 * t);
-        Z1 += 0.00000000219 * Math.cos(1.31943624453 + 3364.4908644476 * t);
-        Z1 += 0.00000000211 * Math.cos(3.18975604764 + 1758.6530784168 * t);
-        Z1 += 0.00000000187 * Math.cos(3.39876387294 + 9830.3890139878 * t);
-        Z1 += 0.00000000225 * Math.cos(4.53161555673 + 13365.9728251482 * t);
-        Z1 += 0.00000000240 * Math.cos(4.10377804654 + 11773.3768115154 * t);
-        Z1 += 0.00000000181 * Math.cos(5.02103622915 + 6144.4203413042 * t);
-        Z1 += 0.00000000170 * Math.cos(3.82076107858 + 9595.2390892234 * t);
-        Z1 += 0.00000000179 * Math.cos(0.52534002868 + 6298.3283211764 * t);
-        Z1 += 0.00000000197 * Math.cos(3.29154622691 + 17654.7805397496 * t);
-        Z1 += 0.00000000173 * Math.cos(6.17700699189 + 5628.9564702112 * t);
-        Z1 += 0.00000000185 * Math.cos(1.76841265719 + 3.523118349 * t);
-        Z1 += 0.00000000164 * Math.cos(5.16565812417 + 6923.9534573736 * t);
-        Z1 += 0.00000000212 * Math.cos(2.49710874752 + 3503.079062832 * t);
-        Z1 += 0.00000000191 * Math.cos(3.06147941687 + 3316.733988952 * t);
-        Z1 += 0.00000000149 * Math.cos(3.09964766740 + 10818.1352869158 * t);
-        Z1 += 0.00000000199 * Math.cos(3.91203195189 + 6894.5239488376 * t);
-        Z1 += 0.00000000146 * Math.cos(0.99908711721 + 433.7117378768 * t);
-        Z1 += 0.00000000164 * Math.cos(0.87273677571 + 2487.4160449478 * t);
-        Z1 += 0.00000000142 * Math.cos(0.91426251678 + 2699.7348193176 * t);
-        Z1 += 0.00000000147 * Math.cos(1.13949466990 + 8955.3418029094 * t);
-        Z1 += 0.00000000161 * Math.cos(1.29304586194 + 15643.6802033098 * t);
-        Z1 += 0.00000000141 * Math.cos(0.78662586077 + 10018.3141617504 * t);
-        Z1 += 0.00000000170 * Math.cos(2.30475590800 + 3346.1353510072 * t);
-        Z1 += 0.00000000156 * Math.cos(4.25533461379 + 3475.6775067352 * t);
-        Z1 += 0.00000000168 * Math.cos(5.22254805054 + 853.196381752 * t);
-        Z1 += 0.00000000184 * Math.cos(5.78264875545 + 11769.8536931664 * t);
-        Z1 += 0.00000000147 * Math.cos(3.65896907438 + 1596.1864422846 * t);
-        Z1 += 0.00000000143 * Math.cos(3.63049733530 + 1581.959348283 * t);
-        Z1 += 0.00000000130 * Math.cos(1.31377876815 + 7632.9432596502 * t);
-        Z1 += 0.00000000130 * Math.cos(2.61778742289 + 7234.794256242 * t);
-        Z1 += 0.00000000152 * Math.cos(2.12818166833 + 3178.1457905676 * t);
-        Z1 += 0.00000000125 * Math.cos(0.64246695673 + 9866.4168806652 * t);
-        Z1 += 0.00000000118 * Math.cos(1.97713868087 + 6688.3384004004 * t);
-        Z1 += 0.00000000139 * Math.cos(1.48720938048 + 14712.317116458 * t);
-        Z1 += 0.00000000127 * Math.cos(4.40635089709 + 12964.300703391 * t);
-        Z1 += 0.00000000130 * Math.cos(5.22946780555 + 3304.5845600224 * t);
-        Z1 += 0.00000000140 * Math.cos(4.09411983665 + 6158.6474353058 * t);
-        Z1 += 0.00000000110 * Math.cos(2.96313731510 + 10575.4066829418 * t);
-        Z1 += 0.00000000108 * Math.cos(1.42758307106 + 7064.1213856228 * t);
-        Z1 += 0.00000000116 * Math.cos(1.77024829602 + 3335.0895023924 * t);
-        Z1 += 0.00000000103 * Math.cos(3.53764086090 + 1744.4259844152 * t);
-        Z1 += 0.00000000120 * Math.cos(1.56367501585 + 3336.7310913418 * t);
-        Z1 += 0.00000000098 * Math.cos(0.18721764890 + 3980.5097130138 * t);
-        Z1 += 0.00000000098 * Math.cos(1.72351303556 + 18052.9295431578 * t);
-        Z1 += 0.00000000110 * Math.cos(0.34606761114 + 8969.568896911 * t);
-        Z1 += 0.00000000108 * Math.cos(1.51716677058 + 419.4846438752 * t);
-        Z1 += 0.00000000100 * Math.cos(1.71152868829 + 2648.454825473 * t);
-        Z1 += 0.00000000119 * Math.cos(2.97602189356 + 640.8776073822 * t);
-        Z1 += 0.00000000096 * Math.cos(1.41608119487 + 5085.038411115 * t);
-        Z1 += 0.00000000089 * Math.cos(0.38926679495 + 5459.3762870782 * t);
-        Z1 += 0.00000000082 * Math.cos(3.96541084548 + 10021.9045904022 * t);
-        Z1 += 0.00000000084 * Math.cos(2.77343761472 + 3344.4937620578 * t);
-        Z1 += 0.00000000080 * Math.cos(4.57789872343 + 11243.6858464208 * t);
-        Z1 += 0.00000000081 * Math.cos(4.51984392790 + 9381.9399937854 * t);
-        Z1 += 0.00000000102 * Math.cos(5.43466097744 + 3376.6402933772 * t);
-        Z1 += 0.00000000076 * Math.cos(4.59412107241 + 10177.2576795336 * t);
-        Z1 += 0.00000000074 * Math.cos(0.46347570603 + 8429.2412664666 * t);
-        Z1 += 0.00000000078 * Math.cos(1.36874721918 + 11081.2192102886 * t);
-        Z1 += 0.00000000080 * Math.cos(5.47863871673 + 3369.0616141676 * t);
-        Z1 += 0.00000000071 * Math.cos(0.91306168512 + 8270.2977486834 * t);
-        Z1 += 0.00000000072 * Math.cos(4.45423986754 + 17256.6315363414 * t);
-        Z1 += 0.00000000097 * Math.cos(4.31072201688 + 3077.528503327 * t);
-        Z1 += 0.00000000071 * Math.cos(4.62498165607 + 10551.528245194 * t);
-        Z1 += 0.00000000066 * Math.cos(0.13337760475 + 15110.4661198662 * t);
-        Z1 += 0.00000000067 * Math.cos(2.62252809221 + 692.1576012268 * t);
-        Z1 += 0.00000000080 * Math.cos(1.32412177054 + 21393.5419698576 * t);
-        Z1 += 0.00000000065 * Math.cos(2.49553722094 + 10973.55568635 * t);
-        Z1 += 0.00000000083 * Math.cos(3.48044851764 + 13916.0191096416 * t);
-        Z1 += 0.00000000077 * Math.cos(0.30886632738 + 3863.1898447936 * t);
-        Z1 += 0.00000000076 * Math.cos(6.15364247126 + 8273.8208670324 * t);
-        Z1 += 0.00000000087 * Math.cos(4.95360412434 + 3603.6963500726 * t);
-        Z1 += 0.00000000066 * Math.cos(2.39362487170 + 76.2660712756 * t);
-        Z1 += 0.00000000061 * Math.cos(3.16734182399 + 2766.267628365 * t);
-        Z1 += 0.00000000076 * Math.cos(4.86164511219 + 20597.2439630412 * t);
-        Z1 += 0.00000000082 * Math.cos(4.37174958841 + 10021.7699697966 * t);
-        Z1 += 0.00000000066 * Math.cos(0.21946862187 + 8031.0922630584 * t);
-        Z1 += 0.00000000062 * Math.cos(3.45689005120 + 13517.8701062334 * t);
-        Z1 += 0.00000000077 * Math.cos(4.77622965669 + 4032.7700279266 * t);
-        Z1 += 0.00000000069 * Math.cos(4.07458572512 + 4407.1079038898 * t);
-        Z1 += 0.00000000057 * Math.cos(5.01958511504 + 5828.0284716476 * t);
-        Z1 += 0.00000000063 * Math.cos(5.03373398018 + 1692.1656695024 * t);
-        Z1 += 0.00000000074 * Math.cos(2.77773427484 + 3981.490034082 * t);
-        Z1 += 0.00000000059 * Math.cos(2.42227935458 + 12566.1516999828 * t);
-        Z1 += 0.00000000056 * Math.cos(3.55730072615 + 10713.9948813262 * t);
-        Z1 += 0.00000000055 * Math.cos(6.23004856059 + 3914.9572250346 * t);
-        Z1 += 0.00000000055 * Math.cos(5.34452429591 + 13358.9265884502 * t);
-        Z1 += 0.00000000055 * Math.cos(0.80155920044 + 11371.7046897582 * t);
-        Z1 += 0.00000000056 * Math.cos(4.79027072937 + 16173.3711684044 * t);
-        Z1 += 0.00000000063 * Math.cos(4.38809621285 + 7373.3824546264 * t);
-        Z1 += 0.00000000065 * Math.cos(1.83461015336 + 14314.1681130498 * t);
-        Z1 += 0.00000000061 * Math.cos(3.35711733735 + 20995.3929664494 * t);
-        Z1 += 0.00000000054 * Math.cos(0.51358052231 + 6702.000248892 * t);
-        Z1 += 0.00000000053 * Math.cos(6.24589101777 + 20199.094959633 * t);
-        Z1 += 0.00000000059 * Math.cos(4.96649103229 + 3191.0492295652 * t);
-        Z1 += 0.00000000052 * Math.cos(4.94957858677 + 24734.1543965574 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 122 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00013705360 * Math.cos(1.04212852598 + 3340.6124266998 * t);
-        Z2 -= 0.00005931596;
-        Z2 += 0.00000716728 * Math.cos(0.12154825255 + 6681.2248533996 * t);
-        Z2 += 0.00000138514 * Math.cos(0.78090653399 + 10021.8372800994 * t);
-        Z2 += 0.00000025745 * Math.cos(1.39077449077 + 13362.4497067992 * t);
-        Z2 += 0.00000012181 * Math.cos(2.58732834908 + 3337.0893083508 * t);
-        Z2 += 0.00000004371 * Math.cos(1.87368859535 + 16703.062133499 * t);
-        Z2 += 0.00000004536 * Math.cos(1.36770001683 + 3344.1355450488 * t);
-        Z2 += 0.00000003737 * Math.cos(6.00280902795 + 3496.032826134 * t);
-        Z2 += 0.00000002587 * Math.cos(4.62868565055 + 3185.1920272656 * t);
-        Z2 += 0.00000001722 * Math.cos(0.98795977798 + 2281.2304965106 * t);
-        Z2 += 0.00000001615 * Math.cos(5.66791333096 + 5621.8429232104 * t);
-        Z2 += 0.00000001520 * Math.cos(3.54344603378 + 3532.0606928114 * t);
-        Z2 += 0.00000001037 * Math.cos(2.63342459156 + 2942.4634232916 * t);
-        Z2 += 0.00000001068 * Math.cos(4.66536326031 + 1059.3819301892 * t);
-        Z2 += 0.00000000905 * Math.cos(2.04669399323 + 6684.7479717486 * t);
-        Z2 += 0.00000001041 * Math.cos(3.88701726221 + 2544.3144198834 * t);
-        Z2 += 0.00000000976 * Math.cos(1.98493465010 + 529.6909650946 * t);
-        Z2 += 0.00000000770 * Math.cos(5.10113036277 + 2810.9214616052 * t);
-        Z2 += 0.00000000688 * Math.cos(4.59085360596 + 3894.1818295422 * t);
-        Z2 += 0.00000000713 * Math.cos(4.16328040173 + 5884.9268465832 * t);
-        Z2 += 0.00000000689 * Math.cos(2.29465541114 + 20043.6745601988 * t);
-        Z2 += 0.00000000622 * Math.cos(4.93952624143 + 3339.6321056316 * t);
-        Z2 += 0.00000000696 * Math.cos(5.39983895631 + 5486.777843175 * t);
-        Z2 += 0.00000000567 * Math.cos(0.51314316796 + 5088.6288397668 * t);
-        Z2 += 0.00000000610 * Math.cos(0.49406493231 + 3340.629680352 * t);
-        Z2 += 0.00000000610 * Math.cos(4.74647860799 + 3340.5951730476 * t);
-        Z2 += 0.00000000647 * Math.cos(1.17822960287 + 3097.88382272579 * t);
-        Z2 += 0.00000000515 * Math.cos(0.52495804247 + 3149.1641605882 * t);
-        Z2 += 0.00000000462 * Math.cos(6.01031568571 + 2787.0430238574 * t);
-        Z2 += 0.00000000439 * Math.cos(0.29884669602 + 4136.9104335162 * t);
-        Z2 += 0.00000000503 * Math.cos(2.83961174727 + 6677.7017350506 * t);
-        Z2 += 0.00000000446 * Math.cos(3.21959306381 + 4292.3308329504 * t);
-        Z2 += 0.00000000393 * Math.cos(5.15600015824 + 2146.1654164752 * t);
-        Z2 += 0.00000000384 * Math.cos(4.87193587713 + 5092.1519581158 * t);
-        Z2 += 0.00000000390 * Math.cos(1.91255819503 + 4690.4798363586 * t);
-        Z2 += 0.00000000374 * Math.cos(4.80085008370 + 1194.4470102246 * t);
-        Z2 += 0.00000000430 * Math.cos(3.34783108483 + 3583.3410306738 * t);
-        Z2 += 0.00000000375 * Math.cos(3.66085423366 + 1592.5960136328 * t);
-        Z2 += 0.00000000337 * Math.cos(5.84337571937 + 3723.508958923 * t);
-        Z2 += 0.00000000325 * Math.cos(2.38085319573 + 1990.745017041 * t);
-        Z2 += 0.00000000323 * Math.cos(5.28429586359 + 155.4203994342 * t);
-        Z2 += 0.00000000361 * Math.cos(0.94089120900 + 2388.8940204492 * t);
-        Z2 += 0.00000000295 * Math.cos(5.53803343526 + 3341.592747768 * t);
-        Z2 += 0.00000000332 * Math.cos(5.85499743580 + 796.2980068164 * t);
-        Z2 += 0.00000000342 * Math.cos(2.58974309074 + 398.1490034082 * t);
-        Z2 += 0.00000000315 * Math.cos(1.39878115260 + 3738.761430108 * t);
-        Z2 += 0.00000000348 * Math.cos(3.88712290311 + 6151.533888305 * t);
-        Z2 += 0.00000000257 * Math.cos(5.22188438508 + 4399.994356889 * t);
-        Z2 += 0.00000000265 * Math.cos(0.10458265918 + 1748.016413067 * t);
-        Z2 += 0.00000000309 * Math.cos(4.99847336546 + 6525.8044539654 * t);
-        Z2 += 0.00000000222 * Math.cos(5.92527218350 + 8962.4553499102 * t);
-        Z2 += 0.00000000201 * Math.cos(2.41602653811 + 3340.6797370026 * t);
-        Z2 += 0.00000000202 * Math.cos(4.74840488839 + 2957.7158944766 * t);
-        Z2 += 0.00000000187 * Math.cos(2.54789510015 + 6283.0758499914 * t);
-        Z2 += 0.00000000222 * Math.cos(4.45800445697 + 3333.498879699 * t);
-        Z2 += 0.00000000189 * Math.cos(2.01790380490 + 7.1135470008 * t);
-        Z2 += 0.00000000190 * Math.cos(5.71991161418 + 2914.0142358238 * t);
-        Z2 += 0.00000000187 * Math.cos(2.55575861239 + 10025.3603984484 * t);
-        Z2 += 0.00000000201 * Math.cos(2.82452292485 + 3340.545116397 * t);
-        Z2 += 0.00000000181 * Math.cos(5.40590734087 + 4535.0594369244 * t);
-        Z2 += 0.00000000167 * Math.cos(0.66523343049 + 2288.3440435114 * t);
-        Z2 += 0.00000000175 * Math.cos(1.38046108142 + 1349.8674096588 * t);
-        Z2 += 0.00000000146 * Math.cos(2.68515136013 + 951.7184062506 * t);
-        Z2 += 0.00000000144 * Math.cos(5.14515012962 + 6254.6266625236 * t);
-        Z2 += 0.00000000147 * Math.cos(2.71904898461 + 242.728603974 * t);
-        Z2 += 0.00000000189 * Math.cos(4.99333577473 + 1589.0728952838 * t);
-        Z2 += 0.00000000149 * Math.cos(4.80676029564 + 2274.1169495098 * t);
-        Z2 += 0.00000000129 * Math.cos(2.21550319598 + 7079.3738568078 * t);
-        Z2 += 0.00000000118 * Math.cos(1.29196638351 + 3127.3133312618 * t);
-        Z2 += 0.00000000145 * Math.cos(3.92808522801 + 553.5694028424 * t);
-        Z2 += 0.00000000119 * Math.cos(1.55095338268 + 6438.4962494256 * t);
-        Z2 += 0.00000000104 * Math.cos(4.20382366423 + 4933.2084403326 * t);
-        Z2 += 0.00000000102 * Math.cos(6.08136575732 + 6836.6452528338 * t);
-        Z2 += 0.00000000122 * Math.cos(1.15508040838 + 6489.776587288 * t);
-        Z2 += 0.00000000088 * Math.cos(2.28726712369 + 6674.1113063988 * t);
-        Z2 += 0.00000000096 * Math.cos(5.11710185609 + 426.598190876 * t);
-        Z2 += 0.00000000095 * Math.cos(0.97194852729 + 7477.522860216 * t);
-        Z2 += 0.00000000098 * Math.cos(0.37829296009 + 3870.3033917944 * t);
-        Z2 += 0.00000000081 * Math.cos(2.95324470602 + 213.299095438 * t);
-        Z2 += 0.00000000100 * Math.cos(2.67089921368 + 23384.2869868986 * t);
-        Z2 += 0.00000000099 * Math.cos(6.15770796955 + 3347.7259737006 * t);
-        Z2 += 0.00000000082 * Math.cos(0.88675647815 + 1751.539531416 * t);
-        Z2 += 0.00000000077 * Math.cos(2.58299228393 + 9492.1463150048 * t);
-        Z2 += 0.00000000064 * Math.cos(3.82120225839 + 6681.2075997474 * t);
-        Z2 += 0.00000000064 * Math.cos(5.85173773053 + 6681.2421070518 * t);
-        Z2 += 0.00000000061 * Math.cos(0.07710122678 + 6127.6554505572 * t);
-        Z2 += 0.00000000061 * Math.cos(5.00961469844 + 4562.4609930212 * t);
-        Z2 += 0.00000000057 * Math.cos(2.83943419184 + 8955.3418029094 * t);
-        Z2 += 0.00000000054 * Math.cos(3.61966169219 + 6923.9534573736 * t);
-        Z2 += 0.00000000066 * Math.cos(2.79752228075 + 5331.3574437408 * t);
-        Z2 += 0.00000000051 * Math.cos(2.71026300250 + 191.4482661116 * t);
-        Z2 += 0.00000000067 * Math.cos(5.17453941928 + 382.8965322232 * t);
-        Z2 += 0.00000000052 * Math.cos(0.06163024115 + 1066.49547719 * t);
-        Z2 += 0.00000000051 * Math.cos(5.98427244306 + 6682.2051744678 * t);
-        Z2 += 0.00000000052 * Math.cos(1.39967850157 + 5729.506447149 * t);
-        Z2 += 0.00000000047 * Math.cos(1.96623457652 + 10419.9862835076 * t);
-        Z2 += 0.00000000043 * Math.cos(0.76139880953 + 6681.2921637024 * t);
-        Z2 += 0.00000000050 * Math.cos(3.77884547078 + 7210.9158184942 * t);
-        Z2 += 0.00000000039 * Math.cos(5.87950681446 + 7875.6718636242 * t);
-        Z2 += 0.00000000039 * Math.cos(1.40731285611 + 3553.9115221378 * t);
-        Z2 += 0.00000000051 * Math.cos(4.11907833593 + 639.897286314 * t);
-        Z2 += 0.00000000046 * Math.cos(5.03496308376 + 8969.568896911 * t);
-        Z2 += 0.00000000051 * Math.cos(5.75564577567 + 7740.6067835888 * t);
-        Z2 += 0.00000000037 * Math.cos(2.30909423712 + 3320.257107301 * t);
-        Z2 += 0.00000000037 * Math.cos(0.67405360149 + 3360.96774609859 * t);
-        Z2 += 0.00000000036 * Math.cos(5.69385236083 + 4929.6853219836 * t);
-        Z2 += 0.00000000038 * Math.cos(2.50888031088 + 10018.3141617504 * t);
-        Z2 += 0.00000000035 * Math.cos(0.45122114069 + 1052.2683831884 * t);
-        Z2 += 0.00000000037 * Math.cos(4.54908428517 + 9866.4168806652 * t);
-        Z2 += 0.00000000033 * Math.cos(5.95090153832 + 6041.3275670856 * t);
-        Z2 += 0.00000000035 * Math.cos(2.08435955688 + 2699.7348193176 * t);
-        Z2 += 0.00000000032 * Math.cos(0.60244035710 + 640.8776073822 * t);
-        Z2 += 0.00000000036 * Math.cos(5.01009549942 + 12303.06777661 * t);
-        Z2 += 0.00000000034 * Math.cos(5.99924292309 + 3767.2106175758 * t);
-        Z2 += 0.00000000035 * Math.cos(4.24982817116 + 3325.3599555148 * t);
-        Z2 += 0.00000000035 * Math.cos(5.01800237749 + 3355.8648978848 * t);
-        Z2 += 0.00000000029 * Math.cos(3.61321450446 + 10021.8200264472 * t);
-        Z2 += 0.00000000036 * Math.cos(2.91699961934 + 13365.9728251482 * t);
-        Z2 += 0.00000000029 * Math.cos(5.64395801617 + 10021.8545337516 * t);
-        Z2 += 0.00000000028 * Math.cos(3.21594452948 + 12832.7587417046 * t);
-        Z2 += 0.00000000031 * Math.cos(4.28897734330 + 6298.3283211764 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 51 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000489822 * Math.cos(2.06392886831 + 3340.6124266998 * t);
-        Z3 += 0.00000212575;
-        Z3 += 0.00000008245 * Math.cos(4.91827993759 + 6681.2248533996 * t);
-        Z3 += 0.00000007509 * Math.cos(5.39641448313 + 10021.8372800994 * t);
-        Z3 += 0.00000002012 * Math.cos(5.97751013737 + 13362.4497067992 * t);
-        Z3 += 0.00000000894 * Math.cos(4.14160765510 + 3337.0893083508 * t);
-        Z3 += 0.00000000738 * Math.cos(1.31585722361 + 3496.032826134 * t);
-        Z3 += 0.00000000438 * Math.cos(0.21206488997 + 16703.062133499 * t);
-        Z3 += 0.00000000433 * Math.cos(3.01442752205 + 3185.1920272656 * t);
-        Z3 += 0.00000000189 * Math.cos(6.19720760024 + 3344.1355450488 * t);
-        Z3 += 0.00000000154 * Math.cos(2.72447562109 + 3097.88382272579 * t);
-        Z3 += 0.00000000104 * Math.cos(6.24240951231 + 3894.1818295422 * t);
-        Z3 += 0.00000000118 * Math.cos(5.13964237695 + 3532.0606928114 * t);
-        Z3 += 0.00000000101 * Math.cos(3.84221865764 + 2942.4634232916 * t);
-        Z3 += 0.00000000095 * Math.cos(0.71711229332 + 5621.8429232104 * t);
-        Z3 += 0.00000000113 * Math.cos(5.32734880412 + 2544.3144198834 * t);
-        Z3 += 0.00000000086 * Math.cos(0.66972591039 + 20043.6745601988 * t);
-        Z3 += 0.00000000096 * Math.cos(1.67496098296 + 3583.3410306738 * t);
-        Z3 += 0.00000000067 * Math.cos(0.38442120869 + 6684.7479717486 * t);
-        Z3 += 0.00000000065 * Math.cos(0.30552815689 + 3339.6321056316 * t);
-        Z3 += 0.00000000057 * Math.cos(0.60718635813 + 155.4203994342 * t);
-        Z3 += 0.00000000055 * Math.cos(4.34004913784 + 2787.0430238574 * t);
-        Z3 += 0.00000000060 * Math.cos(4.89147405929 + 4292.3308329504 * t);
-        Z3 += 0.00000000048 * Math.cos(2.88857868688 + 529.6909650946 * t);
-        Z3 += 0.00000000049 * Math.cos(0.41339413590 + 2146.1654164752 * t);
-        Z3 += 0.00000000048 * Math.cos(3.55422009987 + 4690.4798363586 * t);
-        Z3 += 0.00000000061 * Math.cos(3.43120186635 + 6525.8044539654 * t);
-        Z3 += 0.00000000041 * Math.cos(1.23015429434 + 3723.508958923 * t);
-        Z3 += 0.00000000040 * Math.cos(2.30430764194 + 5088.6288397668 * t);
-        Z3 += 0.00000000028 * Math.cos(4.95849994924 + 3149.1641605882 * t);
-        Z3 += 0.00000000027 * Math.cos(5.04320678135 + 4136.9104335162 * t);
-        Z3 += 0.00000000027 * Math.cos(5.55557540179 + 2388.8940204492 * t);
-        Z3 += 0.00000000024 * Math.cos(3.81281177380 + 3341.592747768 * t);
-        Z3 += 0.00000000021 * Math.cos(0.32087488984 + 1990.745017041 * t);
-        Z3 += 0.00000000019 * Math.cos(0.93486196404 + 3340.629680352 * t);
-        Z3 += 0.00000000019 * Math.cos(5.18727563972 + 3340.5951730476 * t);
-        Z3 += 0.00000000019 * Math.cos(3.01047939751 + 2957.7158944766 * t);
-        Z3 += 0.00000000018 * Math.cos(1.32103617334 + 1592.5960136328 * t);
-        Z3 += 0.00000000018 * Math.cos(1.66958194924 + 1194.4470102246 * t);
-        Z3 += 0.00000000017 * Math.cos(0.16564148066 + 23384.2869868986 * t);
-        Z3 += 0.00000000023 * Math.cos(0.28320385867 + 2281.2304965106 * t);
-        Z3 += 0.00000000018 * Math.cos(6.04232503139 + 7079.3738568078 * t);
-        Z3 += 0.00000000018 * Math.cos(3.82519107334 + 4535.0594369244 * t);
-        Z3 += 0.00000000018 * Math.cos(1.08925641141 + 5486.777843175 * t);
-        Z3 += 0.00000000015 * Math.cos(5.86641996435 + 5884.9268465832 * t);
-        Z3 += 0.00000000021 * Math.cos(2.78318267000 + 398.1490034082 * t);
-        Z3 += 0.00000000016 * Math.cos(0.95206290089 + 10025.3603984484 * t);
-        Z3 += 0.00000000015 * Math.cos(4.77431089840 + 6489.776587288 * t);
-        Z3 += 0.00000000015 * Math.cos(4.15953675017 + 6677.7017350506 * t);
-        Z3 += 0.00000000015 * Math.cos(5.82992617855 + 3333.498879699 * t);
-        Z3 += 0.00000000015 * Math.cos(1.48303517461 + 1059.3819301892 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 16 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000015141;
-        Z4 += 0.00000010395 * Math.cos(3.33271505543 + 3340.6124266998 * t);
-        Z4 += 0.00000000256 * Math.cos(3.76243173590 + 10021.8372800994 * t);
-        Z4 += 0.00000000201 * Math.cos(0.78166958626 + 6681.2248533996 * t);
-        Z4 += 0.00000000116 * Math.cos(2.88209375806 + 3496.032826134 * t);
-        Z4 += 0.00000000117 * Math.cos(4.32489294756 + 13362.4497067992 * t);
-        Z4 += 0.00000000060 * Math.cos(1.43227319487 + 3185.1920272656 * t);
-        Z4 += 0.00000000047 * Math.cos(5.67989354532 + 3337.0893083508 * t);
-        Z4 += 0.00000000033 * Math.cos(4.85494204968 + 16703.062133499 * t);
-        Z4 += 0.00000000026 * Math.cos(4.32019018052 + 3097.88382272579 * t);
-        Z4 += 0.00000000015 * Math.cos(0.04553834693 + 3583.3410306738 * t);
-        Z4 += 0.00000000009 * Math.cos(5.34528843607 + 20043.6745601988 * t);
-        Z4 += 0.00000000008 * Math.cos(1.15875671922 + 3894.1818295422 * t);
-        Z4 += 0.00000000008 * Math.cos(1.82884997572 + 2787.0430238574 * t);
-        Z4 += 0.00000000010 * Math.cos(1.73117485258 + 6525.8044539654 * t);
-        Z4 += 0.00000000008 * Math.cos(4.21120519002 + 6684.7479717486 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 7 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000505 * Math.cos(4.62558150778 + 3340.6124266998 * t);
-        Z5 -= 0.00000000080;
-        Z5 += 0.00000000027 * Math.cos(5.16649907997 + 6681.2248533996 * t);
-        Z5 += 0.00000000015 * Math.cos(4.43919916342 + 3496.032826134 * t);
-        Z5 += 0.00000000006 * Math.cos(6.16271063962 + 3185.1920272656 * t);
-        Z5 += 0.00000000004 * Math.cos(1.89844577416 + 10021.8372800994 * t);
-        Z5 += 0.00000000004 * Math.cos(2.66634523708 + 13362.4497067992 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-}
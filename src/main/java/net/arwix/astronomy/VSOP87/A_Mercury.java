@@ -1,6507 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   MERCURY - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX J2000
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 2000 BC < Date < 6000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-
-abstract class A_Mercury {
-
-    static double X0(double t) // 1449 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 0.37546291728 * Math.cos(4.39651506942 + 26087.9031415742 * t);
-        X0 += 0.03825746672 * Math.cos(1.16485604339 + 52175.8062831484 * t);
-        X0 -= 0.02625615963;
-        X0 += 0.00584261333 * Math.cos(4.21599394757 + 78263.70942472259 * t);
-        X0 += 0.00105716695 * Math.cos(0.98379033182 + 104351.61256629678 * t);
-        X0 += 0.00021011730 * Math.cos(4.03469353923 + 130439.51570787099 * t);
-        X0 += 0.00004433373 * Math.cos(0.80236674527 + 156527.41884944518 * t);
-        X0 += 0.00000974967 * Math.cos(3.85319674536 + 182615.32199101939 * t);
-        X0 += 0.00000700327 * Math.cos(4.45478725367 + 24978.5245894808 * t);
-        X0 += 0.00000626468 * Math.cos(1.18563492001 + 27197.2816936676 * t);
-        X0 += 0.00000446989 * Math.cos(2.97507181503 + 1059.3819301892 * t);
-        X0 += 0.00000398401 * Math.cos(1.86487895049 + 20426.571092422 * t);
-        X0 += 0.00000277216 * Math.cos(3.77909548342 + 31749.2351907264 * t);
-        X0 += 0.00000190657 * Math.cos(4.27201801941 + 53285.1848352418 * t);
-        X0 += 0.00000181790 * Math.cos(4.94857138217 + 1109.3785520934 * t);
-        X0 += 0.00000194418 * Math.cos(0.67806013045 + 4551.9534970588 * t);
-        X0 += 0.00000221028 * Math.cos(0.62082250658 + 208703.22513259358 * t);
-        X0 += 0.00000190713 * Math.cos(1.17385212686 + 5661.3320491522 * t);
-        X0 += 0.00000138492 * Math.cos(1.22446421973 + 51066.427731055 * t);
-        X0 += 0.00000151693 * Math.cos(2.67604566886 + 51116.4243529592 * t);
-        X0 += 0.00000095481 * Math.cos(0.16753795386 + 529.6909650946 * t);
-        X0 += 0.00000114338 * Math.cos(0.56002737806 + 57837.1383323006 * t);
-        X0 += 0.00000075179 * Math.cos(6.06954012703 + 27147.28507176339 * t);
-        X0 += 0.00000074528 * Math.cos(4.92454709213 + 46514.4742339962 * t);
-        X0 += 0.00000068378 * Math.cos(0.19832816518 + 25132.3033999656 * t);
-        X0 += 0.00000065034 * Math.cos(4.90982770245 + 21535.9496445154 * t);
-        X0 += 0.00000083764 * Math.cos(3.18666883018 + 10213.285546211 * t);
-        X0 += 0.00000057815 * Math.cos(5.70200416012 + 14765.2390432698 * t);
-        X0 += 0.00000058577 * Math.cos(5.41671940122 + 27043.5028831828 * t);
-        X0 += 0.00000060503 * Math.cos(4.99652964522 + 47623.8527860896 * t);
-        X0 += 0.00000052662 * Math.cos(2.29801650543 + 26617.5941066688 * t);
-        X0 += 0.00000054816 * Math.cos(5.30909046008 + 12566.1516999828 * t);
-        X0 += 0.00000047830 * Math.cos(1.04296800531 + 79373.08797681599 * t);
-        X0 += 0.00000051223 * Math.cos(3.53627826803 + 426.598190876 * t);
-        X0 += 0.00000051287 * Math.cos(3.67162149494 + 234791.12827416777 * t);
-        X0 += 0.00000048376 * Math.cos(3.51890954721 + 1589.0728952838 * t);
-        X0 += 0.00000048308 * Math.cos(3.65259825204 + 25558.2121764796 * t);
-        X0 += 0.00000048571 * Math.cos(5.72915514275 + 77204.32749453338 * t);
-        X0 += 0.00000034348 * Math.cos(5.67940957102 + 51646.11531805379 * t);
-        X0 += 0.00000032947 * Math.cos(2.99496495895 + 955.5997416086 * t);
-        X0 += 0.00000044563 * Math.cos(2.47566796995 + 41962.5207369374 * t);
-        X0 += 0.00000028370 * Math.cos(0.70313546811 + 30639.856638633 * t);
-        X0 += 0.00000031389 * Math.cos(4.27598213407 + 77154.33087262919 * t);
-        X0 += 0.00000027626 * Math.cos(6.14846127958 + 37410.5672398786 * t);
-        X0 += 0.00000031953 * Math.cos(3.61313384181 + 83925.04147387479 * t);
-        X0 += 0.00000027138 * Math.cos(0.33631401741 + 39609.6545831656 * t);
-        X0 += 0.00000023212 * Math.cos(2.29683623821 + 53131.406024757 * t);
-        X0 += 0.00000026667 * Math.cos(6.25618354827 + 36301.18868778519 * t);
-        X0 += 0.00000025545 * Math.cos(3.71486034105 + 11322.6640983044 * t);
-        X0 += 0.00000027160 * Math.cos(1.78091430845 + 6283.0758499914 * t);
-        X0 += 0.00000020743 * Math.cos(5.68024807830 + 15874.6175953632 * t);
-        X0 += 0.00000023509 * Math.cos(3.99714350287 + 13521.7514415914 * t);
-        X0 += 0.00000016406 * Math.cos(1.69451902864 + 72602.37737557039 * t);
-        X0 += 0.00000016077 * Math.cos(3.22492362452 + 9103.9069941176 * t);
-        X0 += 0.00000021076 * Math.cos(1.76532979749 + 73711.75592766379 * t);
-        X0 += 0.00000015073 * Math.cos(2.81196372969 + 18849.2275499742 * t);
-        X0 += 0.00000017093 * Math.cos(2.11618772835 + 51749.20809227239 * t);
-        X0 += 0.00000015401 * Math.cos(0.38409642418 + 7238.67559160 * t);
-        X0 += 0.00000013833 * Math.cos(2.86060252439 + 53235.18821333759 * t);
-        X0 += 0.00000016621 * Math.cos(2.16299341033 + 50586.73338786459 * t);
-        X0 += 0.00000013461 * Math.cos(5.21674902395 + 52705.49724824299 * t);
-        X0 += 0.00000013312 * Math.cos(5.80885733761 + 25028.521211385 * t);
-        X0 += 0.00000013751 * Math.cos(3.01700253042 + 63498.47038145279 * t);
-        X0 += 0.00000012986 * Math.cos(3.87848079183 + 26107.57290247399 * t);
-        X0 += 0.00000013012 * Math.cos(1.77284954668 + 26068.2333806744 * t);
-        X0 += 0.00000013561 * Math.cos(3.25355689343 + 51220.20654153979 * t);
-        X0 += 0.00000013481 * Math.cos(2.49743950723 + 103292.23063610759 * t);
-        X0 += 0.00000012122 * Math.cos(0.43923849384 + 260879.03141574195 * t);
-        X0 += 0.00000011390 * Math.cos(1.97720953024 + 19317.1925403286 * t);
-        X0 += 0.00000010112 * Math.cos(2.38879888058 + 77734.01845962799 * t);
-        X0 += 0.00000011952 * Math.cos(5.53005209823 + 68050.42387851159 * t);
-        X0 += 0.00000012080 * Math.cos(4.09566440961 + 105460.99111839019 * t);
-        X0 += 0.00000009187 * Math.cos(2.47899096314 + 40853.142184844 * t);
-        X0 += 0.00000009526 * Math.cos(2.10685579050 + 38654.05484155699 * t);
-        X0 += 0.00000012384 * Math.cos(3.88491364454 + 45892.73043315699 * t);
-        X0 += 0.00000008930 * Math.cos(0.47010685402 + 26084.0218062162 * t);
-        X0 += 0.00000008927 * Math.cos(5.18134720032 + 26091.7844769322 * t);
-        X0 += 0.00000012067 * Math.cos(3.39979120537 + 65697.55772473979 * t);
-        X0 += 0.00000008856 * Math.cos(0.33573269125 + 26514.5013324502 * t);
-        X0 += 0.00000008880 * Math.cos(0.74693819701 + 3442.5749449654 * t);
-        X0 += 0.00000008473 * Math.cos(0.38165820380 + 110012.94461544899 * t);
-        X0 += 0.00000008768 * Math.cos(4.86692437236 + 32370.9789915656 * t);
-        X0 += 0.00000007627 * Math.cos(3.72724507066 + 56727.7597802072 * t);
-        X0 += 0.00000008150 * Math.cos(0.32531424488 + 27676.976036858 * t);
-        X0 += 0.00000007210 * Math.cos(1.15776232612 + 6770.7106012456 * t);
-        X0 += 0.00000007049 * Math.cos(2.53147779108 + 33326.5787331742 * t);
-        X0 += 0.00000007373 * Math.cos(4.54270714371 + 23869.1460373874 * t);
-        X0 += 0.00000005950 * Math.cos(5.34652499897 + 79219.30916633119 * t);
-        X0 += 0.00000007534 * Math.cos(1.04407773149 + 103242.23401420339 * t);
-        X0 += 0.00000005961 * Math.cos(3.04054522257 + 62389.09182935939 * t);
-        X0 += 0.00000006001 * Math.cos(5.97534098237 + 59414.4818747484 * t);
-        X0 += 0.00000006074 * Math.cos(3.52491992077 + 32858.61374281979 * t);
-        X0 += 0.00000005423 * Math.cos(2.27094643224 + 43071.8992890308 * t);
-        X0 += 0.00000005824 * Math.cos(0.72194174801 + 19804.8272915828 * t);
-        X0 += 0.00000006044 * Math.cos(4.81765546230 + 99799.65906923798 * t);
-        X0 += 0.00000006266 * Math.cos(5.22643441280 + 25874.6040461362 * t);
-        X0 += 0.00000006266 * Math.cos(2.74603372834 + 639.897286314 * t);
-        X0 += 0.00000005832 * Math.cos(1.07051866290 + 28306.66024576099 * t);
-        X0 += 0.00000005003 * Math.cos(0.33033193603 + 26301.2022370122 * t);
-        X0 += 0.00000005657 * Math.cos(4.82919740832 + 22645.32819660879 * t);
-        X0 += 0.00000004994 * Math.cos(1.08270815662 + 213.299095438 * t);
-        X0 += 0.00000004603 * Math.cos(4.10818821236 + 26095.016688575 * t);
-        X0 += 0.00000004092 * Math.cos(0.55410491255 + 58946.51688439399 * t);
-        X0 += 0.00000005440 * Math.cos(5.17874103610 + 76674.63652943878 * t);
-        X0 += 0.00000004418 * Math.cos(1.60012301239 + 26080.78959457339 * t);
-        X0 += 0.00000003888 * Math.cos(4.74721605492 + 98690.28051714458 * t);
-        X0 += 0.00000005320 * Math.cos(5.16942669114 + 77837.11123384659 * t);
-        X0 += 0.00000003619 * Math.cos(5.54847850901 + 129380.13377768178 * t);
-        X0 += 0.00000003309 * Math.cos(1.95062167120 + 78793.40038981718 * t);
-        X0 += 0.00000003903 * Math.cos(0.75356452005 + 29530.4780865396 * t);
-        X0 += 0.00000004017 * Math.cos(4.06270853170 + 2118.7638603784 * t);
-        X0 += 0.00000003055 * Math.cos(5.92110388322 + 79323.09135491178 * t);
-        X0 += 0.00000003593 * Math.cos(0.17002529302 + 91785.46086631398 * t);
-        X0 += 0.00000003054 * Math.cos(5.55498513785 + 69159.80243060499 * t);
-        X0 += 0.00000003082 * Math.cos(2.29839877933 + 94138.32702008578 * t);
-        X0 += 0.00000003462 * Math.cos(0.65717640120 + 71980.63357473118 * t);
-        X0 += 0.00000002908 * Math.cos(3.48998577457 + 286966.93455731616 * t);
-        X0 += 0.00000003697 * Math.cos(6.07251486266 + 89586.37352302698 * t);
-        X0 += 0.00000002722 * Math.cos(5.88257146743 + 44937.1306915484 * t);
-        X0 += 0.00000002714 * Math.cos(5.41990364356 + 103821.92160120218 * t);
-        X0 += 0.00000003249 * Math.cos(0.27004450324 + 16983.9961474566 * t);
-        X0 += 0.00000003195 * Math.cos(4.87662483707 + 2218.7571041868 * t);
-        X0 += 0.00000002650 * Math.cos(4.82437940961 + 52156.1365222486 * t);
-        X0 += 0.00000003239 * Math.cos(2.70670864860 + 25934.1243310894 * t);
-        X0 += 0.00000003208 * Math.cos(2.94509218256 + 26241.681952059 * t);
-        X0 += 0.00000003530 * Math.cos(1.59643050751 + 7.1135470008 * t);
-        X0 += 0.00000003077 * Math.cos(0.02256903738 + 77308.10968311399 * t);
-        X0 += 0.00000002481 * Math.cos(5.31236272529 + 24498.8302462904 * t);
-        X0 += 0.00000003094 * Math.cos(0.86497244960 + 131548.89425996438 * t);
-        X0 += 0.00000002727 * Math.cos(0.19052309532 + 149.5631971346 * t);
-        X0 += 0.00000002485 * Math.cos(3.12313746508 + 1052.2683831884 * t);
-        X0 += 0.00000002670 * Math.cos(0.64762614763 + 52195.47604404819 * t);
-        X0 += 0.00000002225 * Math.cos(3.43314585329 + 136100.84775702319 * t);
-        X0 += 0.00000001969 * Math.cos(5.16585183325 + 64741.95798313119 * t);
-        X0 += 0.00000002412 * Math.cos(4.23189156828 + 54394.56338733519 * t);
-        X0 += 0.00000002530 * Math.cos(6.01975765668 + 1066.49547719 * t);
-        X0 += 0.00000001942 * Math.cos(1.68431166303 + 58458.88213313979 * t);
-        X0 += 0.00000001869 * Math.cos(0.48618542978 + 82815.66292178139 * t);
-        X0 += 0.00000001825 * Math.cos(1.94930670328 + 52179.6876185064 * t);
-        X0 += 0.00000001832 * Math.cos(5.52981828535 + 66941.04532641819 * t);
-        X0 += 0.00000001778 * Math.cos(1.93899005409 + 25619.9381512198 * t);
-        X0 += 0.00000001820 * Math.cos(3.52168197550 + 52171.9249477904 * t);
-        X0 += 0.00000002115 * Math.cos(2.90697905251 + 51535.90899683439 * t);
-        X0 += 0.00000001965 * Math.cos(5.03484402548 + 45405.0956819028 * t);
-        X0 += 0.00000001705 * Math.cos(3.71423083400 + 26555.8681319286 * t);
-        X0 += 0.00000001639 * Math.cos(3.39953737033 + 52602.4044740244 * t);
-        X0 += 0.00000001664 * Math.cos(3.83119379567 + 5327.4761083828 * t);
-        X0 += 0.00000001925 * Math.cos(5.78531479532 + 13655.8604911764 * t);
-        X0 += 0.00000001650 * Math.cos(1.58612017312 + 125887.56221081219 * t);
-        X0 += 0.00000001514 * Math.cos(3.39500148443 + 53764.8791784322 * t);
-        X0 += 0.00000001866 * Math.cos(4.09501965735 + 129330.13715577759 * t);
-        X0 += 0.00000001627 * Math.cos(4.79352239798 + 48733.23133818299 * t);
-        X0 += 0.00000001673 * Math.cos(4.32252049417 + 52168.69273614759 * t);
-        X0 += 0.00000001445 * Math.cos(6.10060041654 + 88476.99497093359 * t);
-        X0 += 0.00000001654 * Math.cos(6.12789079469 + 76.2660712756 * t);
-        X0 += 0.00000001539 * Math.cos(2.12017582322 + 105307.21230790539 * t);
-        X0 += 0.00000001536 * Math.cos(1.96319343567 + 102762.53967101299 * t);
-        X0 += 0.00000001393 * Math.cos(1.25587354727 + 26081.27458267419 * t);
-        X0 += 0.00000001393 * Math.cos(4.39574517890 + 26094.53170047421 * t);
-        X0 += 0.00000001411 * Math.cos(1.31309973304 + 49957.0491789616 * t);
-        X0 += 0.00000001529 * Math.cos(2.73364151205 + 85502.38501632259 * t);
-        X0 += 0.00000001247 * Math.cos(4.05247492508 + 51962.5071877104 * t);
-        X0 += 0.00000001266 * Math.cos(6.24072120577 + 35191.8101356918 * t);
-        X0 += 0.00000001458 * Math.cos(1.93796370187 + 103925.01437542078 * t);
-        X0 += 0.00000001561 * Math.cos(1.52798608608 + 6681.2248533996 * t);
-        X0 += 0.00000001537 * Math.cos(3.43210104670 + 52389.1053785864 * t);
-        X0 += 0.00000001411 * Math.cos(1.66986522557 + 50057.04242277 * t);
-        X0 += 0.00000001014 * Math.cos(1.81620829580 + 74821.13447975718 * t);
-        X0 += 0.00000001232 * Math.cos(0.84010473770 + 52182.9198301492 * t);
-        X0 += 0.00000001068 * Math.cos(5.82601643881 + 26727.8004278882 * t);
-        X0 += 0.00000000963 * Math.cos(2.31649309053 + 155468.03691925599 * t);
-        X0 += 0.00000000991 * Math.cos(3.22224423668 + 117873.36400788819 * t);
-        X0 += 0.00000000939 * Math.cos(3.69536889843 + 12432.0426503978 * t);
-        X0 += 0.00000000956 * Math.cos(1.51577387873 + 124778.18365871879 * t);
-        X0 += 0.00000000851 * Math.cos(3.47856448633 + 85034.42002596818 * t);
-        X0 += 0.00000000907 * Math.cos(3.70816916557 + 98068.53671630539 * t);
-        X0 += 0.00000000827 * Math.cos(4.98534406085 + 104881.30353139139 * t);
-        X0 += 0.00000000827 * Math.cos(4.70714045338 + 25661.3049506982 * t);
-        X0 += 0.00000000794 * Math.cos(5.34803060760 + 120226.23016165999 * t);
-        X0 += 0.00000000846 * Math.cos(2.52472705200 + 51123.53789995999 * t);
-        X0 += 0.00000000903 * Math.cos(5.45953667423 + 52026.2430860138 * t);
-        X0 += 0.00000000923 * Math.cos(2.83668265777 + 115674.27666460119 * t);
-        X0 += 0.00000000834 * Math.cos(5.95001308021 + 3340.6124266998 * t);
-        X0 += 0.00000000706 * Math.cos(0.25739782784 + 313054.83769889036 * t);
-        X0 += 0.00000000802 * Math.cos(3.91721323343 + 157636.79740153858 * t);
-        X0 += 0.00000000929 * Math.cos(3.79917679735 + 55618.3812281138 * t);
-        X0 += 0.00000000773 * Math.cos(2.32134386344 + 95247.70557217918 * t);
-        X0 += 0.00000000723 * Math.cos(2.69407605052 + 105410.99449648599 * t);
-        X0 += 0.00000000859 * Math.cos(5.91464456306 + 51109.31080595839 * t);
-        X0 += 0.00000000716 * Math.cos(2.17754981522 + 129909.82474277639 * t);
-        X0 += 0.00000000677 * Math.cos(0.70216648530 + 419.4846438752 * t);
-        X0 += 0.00000000650 * Math.cos(3.13131829872 + 64607.84893354619 * t);
-        X0 += 0.00000000673 * Math.cos(0.86671401461 + 28206.6670019526 * t);
-        X0 += 0.00000000607 * Math.cos(1.59220678788 + 78244.0396638228 * t);
-        X0 += 0.00000000659 * Math.cos(5.75914725971 + 52022.0274726636 * t);
-        X0 += 0.00000000739 * Math.cos(3.07428442368 + 103396.01282468818 * t);
-        X0 += 0.00000000585 * Math.cos(0.20238616925 + 162188.75089859738 * t);
-        X0 += 0.00000000674 * Math.cos(5.81169972173 + 38519.945791972 * t);
-        X0 += 0.00000000730 * Math.cos(3.41907506693 + 433.7117378768 * t);
-        X0 += 0.00000000590 * Math.cos(2.65601790847 + 71025.03383312259 * t);
-        X0 += 0.00000000524 * Math.cos(2.22406383572 + 10021.8372800994 * t);
-        X0 += 0.00000000673 * Math.cos(5.99514165920 + 52329.58509363319 * t);
-        X0 += 0.00000000661 * Math.cos(5.96096138275 + 77623.81213840858 * t);
-        X0 += 0.00000000506 * Math.cos(4.78871089926 + 23754.70674870219 * t);
-        X0 += 0.00000000633 * Math.cos(4.13478072308 + 45494.58142974879 * t);
-        X0 += 0.00000000466 * Math.cos(4.75460050527 + 84546.78527471398 * t);
-        X0 += 0.00000000592 * Math.cos(3.30852715140 + 7994.5284420242 * t);
-        X0 += 0.00000000545 * Math.cos(5.80602159358 + 52099.5402118728 * t);
-        X0 += 0.00000000552 * Math.cos(2.39711760878 + 1692.1656695024 * t);
-        X0 += 0.00000000456 * Math.cos(1.94151045577 + 90829.86112470538 * t);
-        X0 += 0.00000000469 * Math.cos(3.29068228268 + 26237.46633870879 * t);
-        X0 += 0.00000000521 * Math.cos(0.86596201958 + 80482.46652890938 * t);
-        X0 += 0.00000000614 * Math.cos(3.69895971929 + 78283.37918562238 * t);
-        X0 += 0.00000000444 * Math.cos(4.63869120122 + 151975.46535238638 * t);
-        X0 += 0.00000000440 * Math.cos(6.26532535664 + 27140.17152476259 * t);
-        X0 += 0.00000000472 * Math.cos(0.86276697768 + 155418.04029735178 * t);
-        X0 += 0.00000000469 * Math.cos(3.53622250201 + 108903.56606335558 * t);
-        X0 += 0.00000000590 * Math.cos(1.92833574451 + 853.196381752 * t);
-        X0 += 0.00000000425 * Math.cos(5.11858657725 + 632.7837393132 * t);
-        X0 += 0.00000000447 * Math.cos(1.04087892038 + 78256.59587772179 * t);
-        X0 += 0.00000000453 * Math.cos(3.64418740188 + 26137.8997634784 * t);
-        X0 += 0.00000000454 * Math.cos(2.00715474668 + 26037.90651966999 * t);
-        X0 += 0.00000000436 * Math.cos(0.82989514902 + 2333.196392872 * t);
-        X0 += 0.00000000405 * Math.cos(2.57594056066 + 1581.959348283 * t);
-        X0 += 0.00000000418 * Math.cos(5.03310520138 + 128850.44281258718 * t);
-        X0 += 0.00000000429 * Math.cos(2.31358963023 + 29428.515568274 * t);
-        X0 += 0.00000000419 * Math.cos(5.00087241120 + 78267.59076008058 * t);
-        X0 += 0.00000000400 * Math.cos(0.83625504703 + 28421.0995344462 * t);
-        X0 += 0.00000000438 * Math.cos(1.02063855266 + 78050.41032928458 * t);
-        X0 += 0.00000000502 * Math.cos(0.81791649248 + 26720.68688088739 * t);
-        X0 += 0.00000000446 * Math.cos(5.82498138989 + 25984.8103673556 * t);
-        X0 += 0.00000000426 * Math.cos(2.83085905523 + 27154.3986187642 * t);
-        X0 += 0.00000000422 * Math.cos(2.30407366448 + 93028.94846799239 * t);
-        X0 += 0.00000000441 * Math.cos(6.19559752006 + 26190.99591579279 * t);
-        X0 += 0.00000000517 * Math.cos(4.94804650401 + 25455.119402261 * t);
-        X0 += 0.00000000390 * Math.cos(4.99072482742 + 130012.91751699499 * t);
-        X0 += 0.00000000366 * Math.cos(3.54049188579 + 22747.2907148744 * t);
-        X0 += 0.00000000364 * Math.cos(0.17059200526 + 78690.30761559859 * t);
-        X0 += 0.00000000360 * Math.cos(2.87002870666 + 114564.89811250778 * t);
-        X0 += 0.00000000418 * Math.cos(0.29020498002 + 78259.82808936459 * t);
-        X0 += 0.00000000352 * Math.cos(0.48243014753 + 52643.7712735028 * t);
-        X0 += 0.00000000447 * Math.cos(4.62889752225 + 76144.94556434419 * t);
-        X0 += 0.00000000393 * Math.cos(0.20924522982 + 78477.00852016058 * t);
-        X0 += 0.00000000337 * Math.cos(0.17003651408 + 79852.78232000639 * t);
-        X0 += 0.00000000423 * Math.cos(1.38576321047 + 46848.3301747656 * t);
-        X0 += 0.00000000328 * Math.cos(5.12139261865 + 72936.23331633979 * t);
-        X0 += 0.00000000356 * Math.cos(6.07425645036 + 48835.19385644859 * t);
-        X0 += 0.00000000335 * Math.cos(2.06671111251 + 18207.81398823521 * t);
-        X0 += 0.00000000316 * Math.cos(4.36448926663 + 76044.9523205358 * t);
-        X0 += 0.00000000403 * Math.cos(5.17867896855 + 131395.11544947959 * t);
-        X0 += 0.00000000368 * Math.cos(5.56337901283 + 25565.3257234804 * t);
-        X0 += 0.00000000417 * Math.cos(1.80274920701 + 71492.99882347698 * t);
-        X0 += 0.00000000299 * Math.cos(4.63500144403 + 25973.46385288896 * t);
-        X0 += 0.00000000297 * Math.cos(1.02156805675 + 26202.34243025941 * t);
-        X0 += 0.00000000295 * Math.cos(2.68493144932 + 103.0927742186 * t);
-        X0 += 0.00000000411 * Math.cos(0.25560489631 + 1596.1864422846 * t);
-        X0 += 0.00000000285 * Math.cos(1.16807752441 + 52182.4348420484 * t);
-        X0 += 0.00000000309 * Math.cos(0.40904055994 + 74.7815985673 * t);
-        X0 += 0.00000000372 * Math.cos(1.49143639581 + 19406.6782881746 * t);
-        X0 += 0.00000000293 * Math.cos(4.67573472055 + 23969.1392811958 * t);
-        X0 += 0.00000000303 * Math.cos(4.97988934115 + 51707.84129279399 * t);
-        X0 += 0.00000000287 * Math.cos(2.94652251384 + 26164.1692128498 * t);
-        X0 += 0.00000000370 * Math.cos(3.57337038653 + 26162.6847401415 * t);
-        X0 += 0.00000000321 * Math.cos(0.05550391453 + 26610.48055966799 * t);
-        X0 += 0.00000000324 * Math.cos(6.13605453847 + 20760.4270331914 * t);
-        X0 += 0.00000000267 * Math.cos(6.27484488465 + 143961.26714946238 * t);
-        X0 += 0.00000000282 * Math.cos(2.62877155080 + 536.8045120954 * t);
-        X0 += 0.00000000300 * Math.cos(2.58633931300 + 224.3447957019 * t);
-        X0 += 0.00000000366 * Math.cos(5.76748576672 + 111590.28815789679 * t);
-        X0 += 0.00000000258 * Math.cos(5.37268509995 + 181555.94006083018 * t);
-        X0 += 0.00000000343 * Math.cos(2.03380599265 + 26013.1215430069 * t);
-        X0 += 0.00000000273 * Math.cos(1.10657254532 + 956.2891559706 * t);
-        X0 += 0.00000000252 * Math.cos(0.59000537549 + 25668.418497699 * t);
-        X0 += 0.00000000244 * Math.cos(4.83556134823 + 51756.3216392732 * t);
-        X0 += 0.00000000285 * Math.cos(4.30750157848 + 52169.17772424839 * t);
-        X0 += 0.00000000321 * Math.cos(1.57031879808 + 25771.5112719176 * t);
-        X0 += 0.00000000320 * Math.cos(4.08881851808 + 26404.2950112308 * t);
-        X0 += 0.00000000237 * Math.cos(0.47343036140 + 124156.43985787958 * t);
-        X0 += 0.00000000305 * Math.cos(3.88207196267 + 78270.82297172339 * t);
-        X0 += 0.00000000277 * Math.cos(1.42703926451 + 1162.4747044078 * t);
-        X0 += 0.00000000274 * Math.cos(5.58277756568 + 77211.44104153418 * t);
-        X0 += 0.00000000279 * Math.cos(2.68601229144 + 77197.21394753258 * t);
-        X0 += 0.00000000259 * Math.cos(4.47711002004 + 32769.1279949738 * t);
-        X0 += 0.00000000229 * Math.cos(0.93581945851 + 110.2063212194 * t);
-        X0 += 0.00000000297 * Math.cos(4.60046007507 + 2648.454825473 * t);
-        X0 += 0.00000000218 * Math.cos(4.72556155170 + 100909.03762133139 * t);
-        X0 += 0.00000000277 * Math.cos(4.66039961569 + 26507.38778544939 * t);
-        X0 += 0.00000000212 * Math.cos(0.53351044088 + 1478.8665740644 * t);
-        X0 += 0.00000000220 * Math.cos(0.21393446501 + 111122.32316754239 * t);
-        X0 += 0.00000000213 * Math.cos(0.60035314724 + 16066.0658614748 * t);
-        X0 += 0.00000000212 * Math.cos(3.53403079789 + 42153.969003049 * t);
-        X0 += 0.00000000208 * Math.cos(2.11083387325 + 146314.13330323418 * t);
-        X0 += 0.00000000230 * Math.cos(5.88454220643 + 141762.17980617538 * t);
-        X0 += 0.00000000241 * Math.cos(4.57150130406 + 150866.08680029298 * t);
-        X0 += 0.00000000210 * Math.cos(0.69225590128 + 183724.70054311278 * t);
-        X0 += 0.00000000279 * Math.cos(2.23082630295 + 78114.14622758799 * t);
-        X0 += 0.00000000211 * Math.cos(1.74747254431 + 130969.20667296558 * t);
-        X0 += 0.00000000243 * Math.cos(1.23801467525 + 11610.5519583742 * t);
-        X0 += 0.00000000265 * Math.cos(2.55781243216 + 39743.7636327506 * t);
-        X0 += 0.00000000222 * Math.cos(0.56159148263 + 81706.28436968799 * t);
-        X0 += 0.00000000197 * Math.cos(2.60291082834 + 52815.7035694624 * t);
-        X0 += 0.00000000247 * Math.cos(0.88342639891 + 71582.48457132299 * t);
-        X0 += 0.00000000244 * Math.cos(2.23408992933 + 51742.09454527159 * t);
-        X0 += 0.00000000202 * Math.cos(2.33370581573 + 25881.717593137 * t);
-        X0 += 0.00000000196 * Math.cos(3.28084664215 + 26294.08869001139 * t);
-        X0 += 0.00000000177 * Math.cos(1.97797395237 + 14477.35118320 * t);
-        X0 += 0.00000000207 * Math.cos(5.81290429105 + 1375.7737998458 * t);
-        X0 += 0.00000000220 * Math.cos(1.08810755857 + 7880.08915333899 * t);
-        X0 += 0.00000000174 * Math.cos(3.31130146787 + 339142.74084046457 * t);
-        X0 += 0.00000000169 * Math.cos(4.11217724456 + 106570.36967048359 * t);
-        X0 += 0.00000000184 * Math.cos(6.12955693514 + 129483.91596626239 * t);
-        X0 += 0.00000000172 * Math.cos(0.97217516384 + 51543.0225438352 * t);
-        X0 += 0.00000000185 * Math.cos(2.73333187819 + 103711.71527998279 * t);
-        X0 += 0.00000000192 * Math.cos(3.25987344029 + 50483.640613646 * t);
-        X0 += 0.00000000191 * Math.cos(5.22978475164 + 155997.72788435058 * t);
-        X0 += 0.00000000196 * Math.cos(5.36844580786 + 121335.60871375339 * t);
-        X0 += 0.00000000149 * Math.cos(3.30525660286 + 33967.99229491319 * t);
-        X0 += 0.00000000152 * Math.cos(2.53081717814 + 78109.93061423779 * t);
-        X0 += 0.00000000167 * Math.cos(3.75899797460 + 467.9649903544 * t);
-        X0 += 0.00000000153 * Math.cos(1.95502612633 + 44181.27784112419 * t);
-        X0 += 0.00000000155 * Math.cos(3.25656297117 + 188276.65404017158 * t);
-        X0 += 0.00000000178 * Math.cos(5.74884343681 + 131498.89763806018 * t);
-        X0 += 0.00000000158 * Math.cos(2.94930459323 + 61279.713277266 * t);
-        X0 += 0.00000000205 * Math.cos(3.72849237219 + 51322.60990139639 * t);
-        X0 += 0.00000000159 * Math.cos(5.67523653240 + 70269.18098269838 * t);
-        X0 += 0.00000000142 * Math.cos(3.09515542757 + 50593.84693486539 * t);
-        X0 += 0.00000000148 * Math.cos(4.64350567688 + 104331.94280539699 * t);
-        X0 += 0.00000000152 * Math.cos(5.28423765869 + 52101.02468458109 * t);
-        X0 += 0.00000000158 * Math.cos(2.76578351678 + 78417.48823520739 * t);
-        X0 += 0.00000000173 * Math.cos(5.18821469013 + 26624.70765366959 * t);
-        X0 += 0.00000000139 * Math.cos(2.47064593676 + 52278.89905736699 * t);
-        X0 += 0.00000000162 * Math.cos(0.92049935752 + 25780.3455206046 * t);
-        X0 += 0.00000000159 * Math.cos(4.73827541063 + 26395.46076254379 * t);
-        X0 += 0.00000000150 * Math.cos(4.09326692088 + 23888.81579828719 * t);
-        X0 += 0.00000000149 * Math.cos(0.46707747400 + 104371.28232719658 * t);
-        X0 += 0.00000000130 * Math.cos(4.64320618121 + 22759.76748529401 * t);
-        X0 += 0.00000000125 * Math.cos(1.65138113985 + 66653.15746634839 * t);
-        X0 += 0.00000000127 * Math.cos(3.92908708947 + 54294.57014352679 * t);
-        X0 += 0.00000000139 * Math.cos(3.82303818931 + 52808.59002246159 * t);
-        X0 += 0.00000000133 * Math.cos(1.43643107625 + 102232.84870591838 * t);
-        X0 += 0.00000000170 * Math.cos(2.57893150930 + 78187.44335344699 * t);
-        X0 += 0.00000000119 * Math.cos(1.41360479766 + 178063.36849396059 * t);
-        X0 += 0.00000000121 * Math.cos(3.91397388740 + 181505.94343892598 * t);
-        X0 += 0.00000000149 * Math.cos(2.93978448379 + 13362.4497067992 * t);
-        X0 += 0.00000000122 * Math.cos(2.54446157327 + 52072.71350892979 * t);
-        X0 += 0.00000000139 * Math.cos(5.71941525592 + 97112.93697469679 * t);
-        X0 += 0.00000000115 * Math.cos(4.07185769679 + 104344.49901929598 * t);
-        X0 += 0.00000000117 * Math.cos(1.54182773466 + 110634.68841628819 * t);
-        X0 += 0.00000000127 * Math.cos(0.21479421217 + 26521.614879451 * t);
-        X0 += 0.00000000112 * Math.cos(1.81733872734 + 154938.34595416138 * t);
-        X0 += 0.00000000111 * Math.cos(0.50939039069 + 18093.37469954999 * t);
-        X0 += 0.00000000113 * Math.cos(0.81015998025 + 25754.0472008048 * t);
-        X0 += 0.00000000108 * Math.cos(5.76941118774 + 25448.00585526019 * t);
-        X0 += 0.00000000146 * Math.cos(0.58342798299 + 60055.89543648739 * t);
-        X0 += 0.00000000108 * Math.cos(2.35657716458 + 24176.703658357 * t);
-        X0 += 0.00000000110 * Math.cos(4.84051151993 + 26421.7590823436 * t);
-        X0 += 0.00000000104 * Math.cos(0.13113326845 + 68241.87214462319 * t);
-        X0 += 0.00000000145 * Math.cos(1.30876998592 + 316.3918696566 * t);
-        X0 += 0.00000000104 * Math.cos(1.75849927543 + 156100.82065856918 * t);
-        X0 += 0.00000000110 * Math.cos(5.00176300515 + 116917.76426627958 * t);
-        X0 += 0.00000000121 * Math.cos(1.57094829203 + 28286.9904848612 * t);
-        X0 += 0.00000000143 * Math.cos(0.64505147056 + 25551.09862947879 * t);
-        X0 += 0.00000000141 * Math.cos(5.41856442991 + 50579.61984086379 * t);
-        X0 += 0.00000000101 * Math.cos(4.14115345148 + 26198.1094627936 * t);
-        X0 += 0.00000000100 * Math.cos(5.46137709146 + 25035.6347583858 * t);
-        X0 += 0.00000000101 * Math.cos(2.84451540031 + 74923.09699802278 * t);
-        X0 += 0.00000000109 * Math.cos(3.14296852629 + 51639.00177105299 * t);
-        X0 += 0.00000000096 * Math.cos(5.13699115630 + 323.5054166574 * t);
-        X0 += 0.00000000100 * Math.cos(3.26577605891 + 104564.91166173479 * t);
-        X0 += 0.00000000132 * Math.cos(2.63118128725 + 647.0108333148 * t);
-        X0 += 0.00000000120 * Math.cos(0.30678874176 + 134991.46920492979 * t);
-        X0 += 0.00000000098 * Math.cos(0.40293133382 + 31415.379249957 * t);
-        X0 += 0.00000000110 * Math.cos(0.16237016300 + 24356.7807886416 * t);
-        X0 += 0.00000000127 * Math.cos(4.13213704562 + 104138.31347085879 * t);
-        X0 += 0.00000000103 * Math.cos(5.28415599079 + 55516.4187098482 * t);
-        X0 += 0.00000000097 * Math.cos(3.48076257184 + 742.9900605326 * t);
-        X0 += 0.00000000093 * Math.cos(5.06100768596 + 52125.80966124419 * t);
-        X0 += 0.00000000090 * Math.cos(3.88628119026 + 54509.0026760204 * t);
-        X0 += 0.00000000102 * Math.cos(1.76819684789 + 104355.49390165479 * t);
-        X0 += 0.00000000092 * Math.cos(0.93585280841 + 29416.03879785439 * t);
-        X0 += 0.00000000099 * Math.cos(3.05816380866 + 51951.46148744649 * t);
-        X0 += 0.00000000101 * Math.cos(5.00210914828 + 26941.0995233262 * t);
-        X0 += 0.00000000093 * Math.cos(5.47802579149 + 27780.06881107659 * t);
-        X0 += 0.00000000092 * Math.cos(5.92381365319 + 140652.80125408198 * t);
-        X0 += 0.00000000101 * Math.cos(0.37463492787 + 52250.5878817157 * t);
-        X0 += 0.00000000110 * Math.cos(1.19226098509 + 49527.35145767539 * t);
-        X0 += 0.00000000106 * Math.cos(1.95430653957 + 157483.01859105378 * t);
-        X0 += 0.00000000085 * Math.cos(0.07491193588 + 52325.36948028299 * t);
-        X0 += 0.00000000088 * Math.cos(5.23856931735 + 36109.7404216736 * t);
-        X0 += 0.00000000092 * Math.cos(4.54873108884 + 51219.51712717779 * t);
-        X0 += 0.00000000099 * Math.cos(4.86416581345 + 97580.90196505119 * t);
-        X0 += 0.00000000096 * Math.cos(5.49023224946 + 27819.0254945068 * t);
-        X0 += 0.00000000083 * Math.cos(3.06701367899 + 53228.07466633679 * t);
-        X0 += 0.00000000086 * Math.cos(4.71420290052 + 52065.59996192899 * t);
-        X0 += 0.00000000100 * Math.cos(0.37157933173 + 52225.8029050526 * t);
-        X0 += 0.00000000102 * Math.cos(5.36307297883 + 119116.85160956658 * t);
-        X0 += 0.00000000086 * Math.cos(3.22100292543 + 104778.21075717278 * t);
-        X0 += 0.00000000080 * Math.cos(3.16723228694 + 27999.1026247914 * t);
-        X0 += 0.00000000082 * Math.cos(3.52865654881 + 78731.674415077 * t);
-        X0 += 0.00000000091 * Math.cos(6.01617993088 + 12725.453434775 * t);
-        X0 += 0.00000000079 * Math.cos(3.22192807282 + 40565.2543247742 * t);
-        X0 += 0.00000000091 * Math.cos(4.58356981907 + 51859.41441349179 * t);
-        X0 += 0.00000000078 * Math.cos(5.89716715733 + 53242.3017603384 * t);
-        X0 += 0.00000000076 * Math.cos(1.13153106088 + 102132.85546210999 * t);
-        X0 += 0.00000000079 * Math.cos(3.22173800911 + 105940.68546158058 * t);
-        X0 += 0.00000000093 * Math.cos(2.96543716449 + 2221.856634597 * t);
-        X0 += 0.00000000090 * Math.cos(4.23026579034 + 51013.33157874059 * t);
-        X0 += 0.00000000089 * Math.cos(0.85475471665 + 1911.1994832172 * t);
-        X0 += 0.00000000075 * Math.cos(4.78657001260 + 3328.13565628019 * t);
-        X0 += 0.00000000089 * Math.cos(2.51053764331 + 137678.19129947099 * t);
-        X0 += 0.00000000073 * Math.cos(5.12605342426 + 50696.93970908399 * t);
-        X0 += 0.00000000102 * Math.cos(3.34060456120 + 104347.73123093879 * t);
-        X0 += 0.00000000072 * Math.cos(3.05203065820 + 170049.17029103659 * t);
-        X0 += 0.00000000088 * Math.cos(0.84909576958 + 52492.19815280499 * t);
-        X0 += 0.00000000078 * Math.cos(5.73315772437 + 103285.11708910679 * t);
-        X0 += 0.00000000076 * Math.cos(2.77567349877 + 25021.4076643842 * t);
-        X0 += 0.00000000074 * Math.cos(1.54799312825 + 52595.29092702359 * t);
-        X0 += 0.00000000075 * Math.cos(1.65964856775 + 77844.22478084739 * t);
-        X0 += 0.00000000076 * Math.cos(5.29592084579 + 25953.79409198919 * t);
-        X0 += 0.00000000093 * Math.cos(3.12123076178 + 52698.38370124219 * t);
-        X0 += 0.00000000071 * Math.cos(1.81949696208 + 99024.13645791399 * t);
-        X0 += 0.00000000069 * Math.cos(5.67393312508 + 27669.86248985719 * t);
-        X0 += 0.00000000082 * Math.cos(4.53867872623 + 8194.2753332086 * t);
-        X0 += 0.00000000070 * Math.cos(3.97459919519 + 24998.19435038059 * t);
-        X0 += 0.00000000073 * Math.cos(0.37194429847 + 26222.0121911592 * t);
-        X0 += 0.00000000066 * Math.cos(4.21010251137 + 78270.33798362259 * t);
-        X0 += 0.00000000075 * Math.cos(0.63857154574 + 104358.72611329758 * t);
-        X0 += 0.00000000068 * Math.cos(1.33087179491 + 25977.69682035479 * t);
-        X0 += 0.00000000065 * Math.cos(5.87150671106 + 12546.481939083 * t);
-        X0 += 0.00000000068 * Math.cos(2.13534804773 + 207643.84320240439 * t);
-        X0 += 0.00000000073 * Math.cos(3.92326982541 + 97670.38771289718 * t);
-        X0 += 0.00000000083 * Math.cos(0.67057706395 + 522.5774180938 * t);
-        X0 += 0.00000000077 * Math.cos(5.28001515588 + 104202.04936916218 * t);
-        X0 += 0.00000000080 * Math.cos(5.28926332171 + 77829.99768684579 * t);
-        X0 += 0.00000000068 * Math.cos(2.82878970797 + 2111.6503133776 * t);
-        X0 += 0.00000000079 * Math.cos(3.79946681872 + 25446.4895798352 * t);
-        X0 += 0.00000000062 * Math.cos(3.49840489113 + 150244.34299945379 * t);
-        X0 += 0.00000000070 * Math.cos(3.33224029594 + 27684.0895838588 * t);
-        X0 += 0.00000000060 * Math.cos(4.35892959809 + 846.0828347512 * t);
-        X0 += 0.00000000072 * Math.cos(6.12464480054 + 50800.03248330259 * t);
-        X0 += 0.00000000063 * Math.cos(1.68487980742 + 27177.6119327678 * t);
-        X0 += 0.00000000070 * Math.cos(4.93912259682 + 17893.6278083656 * t);
-        X0 += 0.00000000062 * Math.cos(4.07249777023 + 52290.24557183361 * t);
-        X0 += 0.00000000059 * Math.cos(1.39971005804 + 52061.36699446317 * t);
-        X0 += 0.00000000074 * Math.cos(1.85368417401 + 26729.31670331319 * t);
-        X0 += 0.00000000059 * Math.cos(5.00188297268 + 220.4126424388 * t);
-        X0 += 0.00000000067 * Math.cos(1.68143884967 + 2008.557539159 * t);
-        X0 += 0.00000000078 * Math.cos(5.50238014696 + 26086.4186688659 * t);
-        X0 += 0.00000000077 * Math.cos(2.35428024909 + 103299.34418310839 * t);
-        X0 += 0.00000000077 * Math.cos(0.15680563848 + 26089.38761428249 * t);
-        X0 += 0.00000000058 * Math.cos(2.64366803071 + 167850.08294774959 * t);
-        X0 += 0.00000000056 * Math.cos(3.75317204098 + 209812.60368468695 * t);
-        X0 += 0.00000000058 * Math.cos(1.54141936736 + 25508.2155545754 * t);
-        X0 += 0.00000000055 * Math.cos(5.11846973847 + 44295.7171298094 * t);
-        X0 += 0.00000000074 * Math.cos(5.40235174363 + 90695.75207512038 * t);
-        X0 += 0.00000000056 * Math.cos(5.41213842126 + 22625.658435709 * t);
-        X0 += 0.00000000058 * Math.cos(5.00595087071 + 24448.8336243862 * t);
-        X0 += 0.00000000066 * Math.cos(1.74137162401 + 77795.74443436819 * t);
-        X0 += 0.00000000060 * Math.cos(3.25440342504 + 137210.22630911658 * t);
-        X0 += 0.00000000053 * Math.cos(6.01392123943 + 52252.07235442399 * t);
-        X0 += 0.00000000055 * Math.cos(5.16128806691 + 172402.03644480839 * t);
-        X0 += 0.00000000063 * Math.cos(0.49748028885 + 77410.51304297059 * t);
-        X0 += 0.00000000055 * Math.cos(3.60654464612 + 107794.18751126219 * t);
-        X0 += 0.00000000067 * Math.cos(1.36610006933 + 19.66976089979 * t);
-        X0 += 0.00000000054 * Math.cos(4.25219663118 + 60370.08161635699 * t);
-        X0 += 0.00000000062 * Math.cos(3.70491161314 + 949.1756089698 * t);
-        X0 += 0.00000000072 * Math.cos(1.66730834668 + 2199.087343287 * t);
-        X0 += 0.00000000070 * Math.cos(4.72694535646 + 24864.08530079559 * t);
-        X0 += 0.00000000054 * Math.cos(0.83991353377 + 25938.3399444396 * t);
-        X0 += 0.00000000052 * Math.cos(5.67389658184 + 26312.2479372761 * t);
-        X0 += 0.00000000051 * Math.cos(4.20616611062 + 55503.94193942859 * t);
-        X0 += 0.00000000051 * Math.cos(1.38932880278 + 126996.94076290558 * t);
-        X0 += 0.00000000057 * Math.cos(5.00882179696 + 38.1330356378 * t);
-        X0 += 0.00000000052 * Math.cos(4.12665298549 + 26667.590728573 * t);
-        X0 += 0.00000000061 * Math.cos(2.99099061629 + 38813.3565763492 * t);
-        X0 += 0.00000000050 * Math.cos(1.22898875729 + 58857.03113654799 * t);
-        X0 += 0.00000000049 * Math.cos(5.77137528617 + 129799.61842155698 * t);
-        X0 += 0.00000000055 * Math.cos(4.77668766562 + 157057.10981453978 * t);
-        X0 += 0.00000000066 * Math.cos(1.07578161516 + 78257.08086582259 * t);
-        X0 += 0.00000000047 * Math.cos(5.68018085277 + 51969.62073471119 * t);
-        X0 += 0.00000000050 * Math.cos(0.62769089958 + 27726.9726587622 * t);
-        X0 += 0.00000000047 * Math.cos(6.07590356304 + 76681.75007643958 * t);
-        X0 += 0.00000000064 * Math.cos(0.02610133525 + 76571.54375522019 * t);
-        X0 += 0.00000000048 * Math.cos(3.85151205518 + 77630.92568540938 * t);
-        X0 += 0.00000000047 * Math.cos(4.16677363723 + 27044.1922975448 * t);
-        X0 += 0.00000000047 * Math.cos(2.89523133719 + 155571.81910783658 * t);
-        X0 += 0.00000000054 * Math.cos(5.79169304973 + 23919.1426592916 * t);
-        X0 += 0.00000000063 * Math.cos(0.92748869514 + 27311.72098235281 * t);
-        X0 += 0.00000000046 * Math.cos(0.24060913723 + 29550.14784743939 * t);
-        X0 += 0.00000000051 * Math.cos(1.39209045161 + 28736.3579670472 * t);
-        X0 += 0.00000000062 * Math.cos(1.33564279040 + 176953.98994186718 * t);
-        X0 += 0.00000000053 * Math.cos(0.23746311564 + 27037.07875054399 * t);
-        X0 += 0.00000000043 * Math.cos(5.65844331747 + 78903.60671103658 * t);
-        X0 += 0.00000000053 * Math.cos(0.29722112114 + 54087.0057663656 * t);
-        X0 += 0.00000000043 * Math.cos(4.35653510451 + 1272.6810256272 * t);
-        X0 += 0.00000000050 * Math.cos(3.33106077360 + 1.4844727083 * t);
-        X0 += 0.00000000043 * Math.cos(3.66662961756 + 16703.062133499 * t);
-        X0 += 0.00000000042 * Math.cos(2.03378131455 + 1485.9801210652 * t);
-        X0 += 0.00000000042 * Math.cos(2.08219460796 + 78188.92782615528 * t);
-        X0 += 0.00000000053 * Math.cos(2.13789461791 + 147423.51185532758 * t);
-        X0 += 0.00000000048 * Math.cos(5.60385784254 + 65831.6667743248 * t);
-        X0 += 0.00000000041 * Math.cos(6.24695538371 + 206.1855484372 * t);
-        X0 += 0.00000000048 * Math.cos(5.45683494266 + 25138.7275326044 * t);
-        X0 += 0.00000000053 * Math.cos(0.12507223621 + 52381.99183158559 * t);
-        X0 += 0.00000000041 * Math.cos(3.35871947817 + 1795.258443721 * t);
-        X0 += 0.00000000049 * Math.cos(5.16281052467 + 26709.6469424134 * t);
-        X0 += 0.00000000040 * Math.cos(0.81354779862 + 132658.27281205778 * t);
-        X0 += 0.00000000054 * Math.cos(0.20680001648 + 153.7788104848 * t);
-        X0 += 0.00000000048 * Math.cos(0.50977666152 + 25466.159340735 * t);
-        X0 += 0.00000000047 * Math.cos(2.16892174570 + 76667.52298243798 * t);
-        X0 += 0.00000000040 * Math.cos(1.64818311544 + 26823.77965510599 * t);
-        X0 += 0.00000000044 * Math.cos(0.08844410692 + 365230.64398203876 * t);
-        X0 += 0.00000000049 * Math.cos(1.91714086006 + 75930.51303185058 * t);
-        X0 += 0.00000000040 * Math.cos(4.01884342217 + 25352.02662804239 * t);
-        X0 += 0.00000000046 * Math.cos(5.62653039055 + 104275.34649502118 * t);
-        X0 += 0.00000000044 * Math.cos(0.03463265500 + 214364.55718174578 * t);
-        X0 += 0.00000000044 * Math.cos(1.85079090927 + 52712.61079524379 * t);
-        X0 += 0.00000000051 * Math.cos(1.98801868265 + 182085.63102592478 * t);
-        X0 += 0.00000000044 * Math.cos(6.15351278676 + 28256.66362385679 * t);
-        X0 += 0.00000000038 * Math.cos(5.81365212706 + 104505.39137678158 * t);
-        X0 += 0.00000000043 * Math.cos(5.33420928917 + 25867.49049913539 * t);
-        X0 += 0.00000000037 * Math.cos(5.57899251145 + 104197.83375581198 * t);
-        X0 += 0.00000000042 * Math.cos(5.19722521758 + 25169.9728555924 * t);
-        X0 += 0.00000000038 * Math.cos(3.94772947506 + 26102.1302355758 * t);
-        X0 += 0.00000000038 * Math.cos(3.51956196186 + 130459.18546877075 * t);
-        X0 += 0.00000000036 * Math.cos(4.54511004825 + 128320.75184749259 * t);
-        X0 += 0.00000000037 * Math.cos(3.02198266683 + 26118.2300025786 * t);
-        X0 += 0.00000000041 * Math.cos(1.79637344087 + 1265.5674786264 * t);
-        X0 += 0.00000000037 * Math.cos(1.67070947391 + 24203.0019781568 * t);
-        X0 += 0.00000000036 * Math.cos(2.65041173436 + 26057.57628056979 * t);
-        X0 += 0.00000000038 * Math.cos(1.66427845773 + 26402.0893214438 * t);
-        X0 += 0.00000000038 * Math.cos(5.13531782692 + 9384.8410080752 * t);
-        X0 += 0.00000000039 * Math.cos(0.46607609112 + 27005.83342755599 * t);
-        X0 += 0.00000000039 * Math.cos(5.40354793843 + 151.0476698429 * t);
-        X0 += 0.00000000037 * Math.cos(5.42747720341 + 78366.80219894118 * t);
-        X0 += 0.00000000037 * Math.cos(4.00811594346 + 25773.71696170459 * t);
-        X0 += 0.00000000034 * Math.cos(3.56462720934 + 27566.76971563859 * t);
-        X0 += 0.00000000045 * Math.cos(0.79959361589 + 2125.8774073792 * t);
-        X0 += 0.00000000035 * Math.cos(0.56576540054 + 78896.49316403578 * t);
-        X0 += 0.00000000034 * Math.cos(1.75287834063 + 26073.67604757259 * t);
-        X0 += 0.00000000038 * Math.cos(1.41911789835 + 130419.8459469712 * t);
-        X0 += 0.00000000044 * Math.cos(2.53375250429 + 157586.80077963437 * t);
-        X0 += 0.00000000034 * Math.cos(3.67701355195 + 25985.94062330859 * t);
-        X0 += 0.00000000033 * Math.cos(0.53966934587 + 51852.30086649099 * t);
-        X0 += 0.00000000035 * Math.cos(4.00506060972 + 27972.80430499159 * t);
-        X0 += 0.00000000035 * Math.cos(2.61916970082 + 27463.67694142 * t);
-        X0 += 0.00000000033 * Math.cos(1.99538084924 + 26189.8656598398 * t);
-        X0 += 0.00000000032 * Math.cos(0.69003641909 + 207593.84658050018 * t);
-        X0 += 0.00000000040 * Math.cos(4.40927057090 + 148.0787244263 * t);
-        X0 += 0.00000000035 * Math.cos(3.16175106244 + 51653.22886505459 * t);
-        X0 += 0.00000000034 * Math.cos(3.96853644086 + 51868.2486621788 * t);
-        X0 += 0.00000000038 * Math.cos(5.50377225938 + 64901.25971792339 * t);
-        X0 += 0.00000000043 * Math.cos(3.02087771501 + 51528.79544983359 * t);
-        X0 += 0.00000000036 * Math.cos(0.94812382604 + 130226.21661243298 * t);
-        X0 += 0.00000000042 * Math.cos(0.56126000400 + 26308.315784013 * t);
-        X0 += 0.00000000031 * Math.cos(5.57428335318 + 78160.61665050399 * t);
-        X0 += 0.00000000032 * Math.cos(4.46013138626 + 204151.27163553478 * t);
-        X0 += 0.00000000032 * Math.cos(2.18005598447 + 51432.81622261579 * t);
-        X0 += 0.00000000030 * Math.cos(0.82681675219 + 130432.40216087017 * t);
-        X0 += 0.00000000030 * Math.cos(2.78120590799 + 116783.65521669458 * t);
-        X0 += 0.00000000032 * Math.cos(1.19634441527 + 26011.6370702986 * t);
-        X0 += 0.00000000030 * Math.cos(4.81616957225 + 182188.72380014337 * t);
-        X0 += 0.00000000030 * Math.cos(4.58762516085 + 49842.60989027639 * t);
-        X0 += 0.00000000029 * Math.cos(4.88576757444 + 181026.24909573558 * t);
-        X0 += 0.00000000031 * Math.cos(4.17809672541 + 26083.97098831109 * t);
-        X0 += 0.00000000029 * Math.cos(4.00562317628 + 23439.44831610119 * t);
-        X0 += 0.00000000030 * Math.cos(3.25773726286 + 94329.77528619739 * t);
-        X0 += 0.00000000028 * Math.cos(0.70524581752 + 80382.47328510099 * t);
-        X0 += 0.00000000029 * Math.cos(4.41924870429 + 114.3991069134 * t);
-        X0 += 0.00000000030 * Math.cos(0.97454681171 + 77101.23472031478 * t);
-        X0 += 0.00000000031 * Math.cos(3.62133003349 + 13541.42120249119 * t);
-        X0 += 0.00000000027 * Math.cos(5.91976429127 + 101011.00013959699 * t);
-        X0 += 0.00000000037 * Math.cos(4.29084367097 + 37698.4550999484 * t);
-        X0 += 0.00000000029 * Math.cos(1.50978551760 + 26091.83529483729 * t);
-        X0 += 0.00000000027 * Math.cos(1.62628759375 + 52509.6622239178 * t);
-        X0 += 0.00000000027 * Math.cos(0.05278402845 + 130652.81480330898 * t);
-        X0 += 0.00000000028 * Math.cos(4.62722813500 + 54374.8936264354 * t);
-        X0 += 0.00000000034 * Math.cos(1.33764060023 + 77307.42026875199 * t);
-        X0 += 0.00000000028 * Math.cos(5.03737783889 + 183570.92173262799 * t);
-        X0 += 0.00000000026 * Math.cos(5.99681746879 + 26049.7701059364 * t);
-        X0 += 0.00000000030 * Math.cos(0.32859851834 + 24395.7374720718 * t);
-        X0 += 0.00000000034 * Math.cos(1.25342876252 + 22003.9146348698 * t);
-        X0 += 0.00000000033 * Math.cos(6.20284454959 + 77726.90491262719 * t);
-        X0 += 0.00000000029 * Math.cos(4.59659721132 + 136722.59155786238 * t);
-        X0 += 0.00000000035 * Math.cos(1.49684301877 + 52483.36390411799 * t);
-        X0 += 0.00000000033 * Math.cos(2.75649306165 + 49953.94964855139 * t);
-        X0 += 0.00000000026 * Math.cos(1.90176515926 + 76784.84285065818 * t);
-        X0 += 0.00000000031 * Math.cos(6.01278123151 + 87367.61641884019 * t);
-        X0 += 0.00000000034 * Math.cos(0.00576676128 + 1905.4647649404 * t);
-        X0 += 0.00000000029 * Math.cos(2.06052680441 + 51226.63067417859 * t);
-        X0 += 0.00000000028 * Math.cos(5.93842433817 + 34282.1784747828 * t);
-        X0 += 0.00000000032 * Math.cos(3.35937950567 + 161079.37234650398 * t);
-        X0 += 0.00000000031 * Math.cos(4.07910584606 + 75615.25459924959 * t);
-        X0 += 0.00000000033 * Math.cos(6.12422500331 + 78039.36462902068 * t);
-        X0 += 0.00000000027 * Math.cos(0.91518492018 + 1223.81784077861 * t);
-        X0 += 0.00000000033 * Math.cos(2.48498925172 + 123200.84011627098 * t);
-        X0 += 0.00000000029 * Math.cos(0.08978768557 + 26575.53789282839 * t);
-        X0 += 0.00000000025 * Math.cos(3.43998049238 + 78338.49102328988 * t);
-        X0 += 0.00000000024 * Math.cos(2.66945427931 + 24824.745778996 * t);
-        X0 += 0.00000000024 * Math.cos(3.24564642216 + 1045.1548361876 * t);
-        X0 += 0.00000000029 * Math.cos(5.58510707424 + 25600.26839032 * t);
-        X0 += 0.00000000027 * Math.cos(0.73776364996 + 27170.98337386779 * t);
-        X0 += 0.00000000027 * Math.cos(4.92586138125 + 25004.8229092806 * t);
-        X0 += 0.00000000026 * Math.cos(5.97260588863 + 39450.3528483734 * t);
-        X0 += 0.00000000023 * Math.cos(3.00242836566 + 27351.06050415239 * t);
-        X0 += 0.00000000024 * Math.cos(2.49215995784 + 129373.02023068098 * t);
-        X0 += 0.00000000025 * Math.cos(2.88697470245 + 50064.15596977079 * t);
-        X0 += 0.00000000025 * Math.cos(5.00115643159 + 299.1263942692 * t);
-        X0 += 0.00000000027 * Math.cos(1.76553297822 + 143005.66740785378 * t);
-        X0 += 0.00000000023 * Math.cos(3.27216589351 + 52609.51802102519 * t);
-        X0 += 0.00000000027 * Math.cos(1.29818173739 + 24072.9214697764 * t);
-        X0 += 0.00000000028 * Math.cos(3.14979814758 + 65717.22748563958 * t);
-        X0 += 0.00000000024 * Math.cos(0.97156468917 + 52286.01260436779 * t);
-        X0 += 0.00000000030 * Math.cos(4.42414087291 + 30171.8916482786 * t);
-        X0 += 0.00000000025 * Math.cos(1.41122590276 + 48847.6706268682 * t);
-        X0 += 0.00000000029 * Math.cos(4.64941810533 + 3.9321532631 * t);
-        X0 += 0.00000000026 * Math.cos(1.50614892755 + 78153.50310350319 * t);
-        X0 += 0.00000000023 * Math.cos(1.32747738833 + 77947.31755506598 * t);
-        X0 += 0.00000000023 * Math.cos(1.63079770877 + 123668.80510662538 * t);
-        X0 += 0.00000000030 * Math.cos(2.27056118316 + 53906.92863608099 * t);
-        X0 += 0.00000000022 * Math.cos(1.83245731848 + 78213.71280281838 * t);
-        X0 += 0.00000000025 * Math.cos(5.93871501925 + 26724.8994135984 * t);
-        X0 += 0.00000000025 * Math.cos(6.00809531914 + 25450.90686955 * t);
-        X0 += 0.00000000022 * Math.cos(5.41897797101 + 50264.6067999312 * t);
-        X0 += 0.00000000030 * Math.cos(2.89300380445 + 1731.1223529326 * t);
-        X0 += 0.00000000029 * Math.cos(6.26467372784 + 6129.2970395066 * t);
-        X0 += 0.00000000022 * Math.cos(3.40134712578 + 6885.14988993081 * t);
-        X0 += 0.00000000026 * Math.cos(4.37859274213 + 28102.884813372 * t);
-        X0 += 0.00000000024 * Math.cos(6.19145581405 + 78786.28684281638 * t);
-        X0 += 0.00000000025 * Math.cos(0.11282707964 + 130435.63437251298 * t);
-        X0 += 0.00000000022 * Math.cos(3.21335876929 + 50444.6839302158 * t);
-        X0 += 0.00000000021 * Math.cos(0.94006911216 + 51955.39364070959 * t);
-        X0 += 0.00000000022 * Math.cos(3.51848051148 + 103498.41618454478 * t);
-        X0 += 0.00000000021 * Math.cos(2.37348270979 + 35472.7441496494 * t);
-        X0 += 0.00000000023 * Math.cos(2.05327785040 + 103917.90082841998 * t);
-        X0 += 0.00000000023 * Math.cos(4.96709654012 + 16342.5825857176 * t);
-        X0 += 0.00000000025 * Math.cos(2.29706808754 + 52174.32181044009 * t);
-        X0 += 0.00000000022 * Math.cos(3.88895575058 + 78580.10129437919 * t);
-        X0 += 0.00000000022 * Math.cos(0.65838685946 + 80596.9058175946 * t);
-        X0 += 0.00000000024 * Math.cos(3.86546209537 + 51841.950342379 * t);
-        X0 += 0.00000000029 * Math.cos(1.62800102685 + 14.2270940016 * t);
-        X0 += 0.00000000023 * Math.cos(5.40491354928 + 129387.24732468258 * t);
-        X0 += 0.00000000020 * Math.cos(1.31076853893 + 51329.7234483972 * t);
-        X0 += 0.00000000025 * Math.cos(2.01244999882 + 81604.32185142238 * t);
-        X0 += 0.00000000021 * Math.cos(3.01395405474 + 1063.3140834523 * t);
-        X0 += 0.00000000021 * Math.cos(0.67741466251 + 123758.29085447139 * t);
-        X0 += 0.00000000027 * Math.cos(2.90106794933 + 76887.93562487679 * t);
-        X0 += 0.00000000023 * Math.cos(3.97874341983 + 3462.2447058652 * t);
-        X0 += 0.00000000020 * Math.cos(1.71776764968 + 1089.7087911936 * t);
-        X0 += 0.00000000022 * Math.cos(2.28317396212 + 24491.71669928959 * t);
-        X0 += 0.00000000021 * Math.cos(5.53325591048 + 163766.09444104518 * t);
-        X0 += 0.00000000022 * Math.cos(3.98134921024 + 50167.24874398939 * t);
-        X0 += 0.00000000020 * Math.cos(5.13525290875 + 735.8765135318 * t);
-        X0 += 0.00000000021 * Math.cos(2.05459082055 + 130289.95251073639 * t);
-        X0 += 0.00000000020 * Math.cos(6.09945384418 + 196137.07343261078 * t);
-        X0 += 0.00000000023 * Math.cos(2.69768658787 + 166740.70439565618 * t);
-        X0 += 0.00000000021 * Math.cos(0.61205369640 + 96357.08412427259 * t);
-        X0 += 0.00000000022 * Math.cos(0.06669236593 + 26126.036177212 * t);
-        X0 += 0.00000000022 * Math.cos(5.71636060779 + 26734.913974889 * t);
-        X0 += 0.00000000019 * Math.cos(4.66884897067 + 78683.19406859778 * t);
-        X0 += 0.00000000024 * Math.cos(2.12828546843 + 145204.75475114079 * t);
-        X0 += 0.00000000023 * Math.cos(4.84049690148 + 27223.5800134674 * t);
-        X0 += 0.00000000019 * Math.cos(3.69323819425 + 130446.62925487179 * t);
-        X0 += 0.00000000024 * Math.cos(3.04675754545 + 52177.29075585669 * t);
-        X0 += 0.00000000018 * Math.cos(0.72295496626 + 112231.70171963578 * t);
-        X0 += 0.00000000024 * Math.cos(4.23773296616 + 24925.4284371664 * t);
-        X0 += 0.00000000025 * Math.cos(4.82366657336 + 130443.39704322898 * t);
-        X0 += 0.00000000020 * Math.cos(5.54482262721 + 39629.32434406539 * t);
-        X0 += 0.00000000022 * Math.cos(0.83649888960 + 24952.226269681 * t);
-        X0 += 0.00000000019 * Math.cos(6.21298740233 + 24505.94379329119 * t);
-        X0 += 0.00000000020 * Math.cos(0.30552664552 + 104819.57755665119 * t);
-        X0 += 0.00000000019 * Math.cos(6.23315092064 + 26248.310510959 * t);
-        X0 += 0.00000000019 * Math.cos(5.71365941775 + 25927.49577218939 * t);
-        X0 += 0.00000000018 * Math.cos(4.18931740994 + 128220.75860368418 * t);
-        X0 += 0.00000000020 * Math.cos(5.93600662958 + 25907.8260112896 * t);
-        X0 += 0.00000000020 * Math.cos(6.01080370881 + 26267.9802718588 * t);
-        X0 += 0.00000000019 * Math.cos(4.93432108959 + 52817.21984488739 * t);
-        X0 += 0.00000000018 * Math.cos(1.78785742512 + 53029.0026649004 * t);
-        X0 += 0.00000000018 * Math.cos(1.87891344947 + 26411.4085582316 * t);
-        X0 += 0.00000000022 * Math.cos(4.75001386674 + 103932.12792242158 * t);
-        X0 += 0.00000000018 * Math.cos(4.90666145829 + 27573.1938482774 * t);
-        X0 += 0.00000000021 * Math.cos(6.27990297281 + 130866.11389874699 * t);
-        X0 += 0.00000000025 * Math.cos(3.36120084514 + 78313.70604662679 * t);
-        X0 += 0.00000000018 * Math.cos(0.81718560103 + 52137.67324751059 * t);
-        X0 += 0.00000000020 * Math.cos(5.18305639217 + 233731.74634397858 * t);
-        X0 += 0.00000000020 * Math.cos(0.38279809837 + 12412.372889498 * t);
-        X0 += 0.00000000018 * Math.cos(3.15536708233 + 78413.27262185719 * t);
-        X0 += 0.00000000017 * Math.cos(2.29182997194 + 53867.97195265079 * t);
-        X0 += 0.00000000019 * Math.cos(3.08463122927 + 102659.44689679438 * t);
-        X0 += 0.00000000017 * Math.cos(0.77039059907 + 24602.61243487099 * t);
-        X0 += 0.00000000019 * Math.cos(6.28210678104 + 132028.58860315479 * t);
-        X0 += 0.00000000016 * Math.cos(2.69293004860 + 79330.20490191258 * t);
-        X0 += 0.00000000018 * Math.cos(6.15816966745 + 79315.97780791098 * t);
-        X0 += 0.00000000016 * Math.cos(2.78510813583 + 92741.06060792258 * t);
-        X0 += 0.00000000019 * Math.cos(2.01731902987 + 86143.79857806159 * t);
-        X0 += 0.00000000016 * Math.cos(1.31341405081 + 50903.1252575212 * t);
-        X0 += 0.00000000016 * Math.cos(2.44368919495 + 3.881335358 * t);
-        X0 += 0.00000000016 * Math.cos(3.65774554265 + 50689.82616208319 * t);
-        X0 += 0.00000000016 * Math.cos(6.10122094573 + 28309.75977617119 * t);
-        X0 += 0.00000000016 * Math.cos(4.26178376234 + 6044.2285813754 * t);
-        X0 += 0.00000000015 * Math.cos(2.51967305706 + 155887.52156313117 * t);
-        X0 += 0.00000000022 * Math.cos(6.08458810680 + 1055.4497769261 * t);
-        X0 += 0.00000000021 * Math.cos(5.13080043101 + 3178.1457905676 * t);
-        X0 += 0.00000000017 * Math.cos(3.32835182606 + 55638.05098901359 * t);
-        X0 += 0.00000000016 * Math.cos(0.98987078340 + 104358.2411251968 * t);
-        X0 += 0.00000000015 * Math.cos(0.52512621542 + 235900.50682626116 * t);
-        X0 += 0.00000000016 * Math.cos(0.28898343422 + 176332.24614102798 * t);
-        X0 += 0.00000000015 * Math.cos(3.42730813171 + 52309.9153327334 * t);
-        X0 += 0.00000000017 * Math.cos(4.88375242853 + 125112.03959948818 * t);
-        X0 += 0.00000000016 * Math.cos(1.99816798814 + 62197.64356324779 * t);
-        X0 += 0.00000000016 * Math.cos(4.51457964099 + 61560.64729122359 * t);
-        X0 += 0.00000000018 * Math.cos(4.94346053652 + 50049.92887576919 * t);
-        X0 += 0.00000000015 * Math.cos(2.61658139005 + 50007.0458008658 * t);
-        X0 += 0.00000000015 * Math.cos(0.06610754830 + 26830.8932021068 * t);
-        X0 += 0.00000000014 * Math.cos(0.38206454808 + 133882.09065283638 * t);
-        X0 += 0.00000000015 * Math.cos(5.28887949143 + 102755.42612401219 * t);
-        X0 += 0.00000000015 * Math.cos(2.92331490635 + 102769.65321801379 * t);
-        X0 += 0.00000000014 * Math.cos(5.66688710771 + 193937.98608932378 * t);
-        X0 += 0.00000000016 * Math.cos(1.91576514422 + 77.7505439839 * t);
-        X0 += 0.00000000016 * Math.cos(4.13091799370 + 104344.98400739678 * t);
-        X0 += 0.00000000014 * Math.cos(1.95123243708 + 26247.2048763664 * t);
-        X0 += 0.00000000014 * Math.cos(3.71239259413 + 25928.601406782 * t);
-        X0 += 0.00000000015 * Math.cos(5.21246865831 + 173511.41499690177 * t);
-        X0 += 0.00000000013 * Math.cos(2.28227257639 + 50380.54783942739 * t);
-        X0 += 0.00000000016 * Math.cos(3.86619726000 + 50910.238804522 * t);
-        X0 += 0.00000000014 * Math.cos(5.78969562755 + 1169.5882514086 * t);
-        X0 += 0.00000000014 * Math.cos(4.35629855542 + 153084.84390447979 * t);
-        X0 += 0.00000000016 * Math.cos(3.71527476533 + 53814.87580033639 * t);
-        X0 += 0.00000000014 * Math.cos(0.41808098652 + 25234.70675982219 * t);
-        X0 += 0.00000000014 * Math.cos(4.45337551699 + 78149.27013603736 * t);
-        X0 += 0.00000000016 * Math.cos(4.39060666970 + 203041.89308344138 * t);
-        X0 += 0.00000000015 * Math.cos(6.07885192222 + 77616.69859140778 * t);
-        X0 += 0.00000000013 * Math.cos(4.95992660397 + 25654.19140369739 * t);
-        X0 += 0.00000000014 * Math.cos(4.39150540314 + 52161.57918914679 * t);
-        X0 += 0.00000000014 * Math.cos(0.84211332161 + 78378.14871340781 * t);
-        X0 += 0.00000000014 * Math.cos(0.69241893678 + 35833.2236974308 * t);
-        X0 += 0.00000000014 * Math.cos(3.21771971652 + 26076.8574413103 * t);
-        X0 += 0.00000000014 * Math.cos(2.44590531469 + 26098.9488418381 * t);
-        X0 += 0.00000000016 * Math.cos(0.56654525193 + 51534.3927214094 * t);
-        X0 += 0.00000000014 * Math.cos(4.45033215443 + 20043.6745601988 * t);
-        X0 += 0.00000000014 * Math.cos(1.93515798949 + 198489.93958638258 * t);
-        X0 += 0.00000000013 * Math.cos(0.54283839653 + 103718.82882698359 * t);
-        X0 += 0.00000000016 * Math.cos(4.43529118981 + 1639.069517188 * t);
-        X0 += 0.00000000012 * Math.cos(5.66254865130 + 122444.98726584678 * t);
-        X0 += 0.00000000016 * Math.cos(6.03889434600 + 34082.4315835984 * t);
-        X0 += 0.00000000012 * Math.cos(1.26244334627 + 25984.1209529936 * t);
-        X0 += 0.00000000012 * Math.cos(4.40118168494 + 26191.68533015479 * t);
-        X0 += 0.00000000014 * Math.cos(4.74015829600 + 53265.515074342 * t);
-        X0 += 0.00000000012 * Math.cos(5.94982180077 + 181659.72224941078 * t);
-        X0 += 0.00000000014 * Math.cos(3.98129674269 + 53399.624123927 * t);
-        X0 += 0.00000000012 * Math.cos(0.13991027783 + 53771.99272543299 * t);
-        X0 += 0.00000000012 * Math.cos(1.72516185425 + 43981.5309499398 * t);
-        X0 += 0.00000000012 * Math.cos(5.92386757303 + 28199.55345495179 * t);
-        X0 += 0.00000000012 * Math.cos(4.59110069577 + 51596.1186961496 * t);
-        X0 += 0.00000000013 * Math.cos(0.25880243151 + 52024.75861330549 * t);
-        X0 += 0.00000000011 * Math.cos(4.64769916430 + 52911.68279668019 * t);
-        X0 += 0.00000000011 * Math.cos(1.89863893326 + 70383.6202713836 * t);
-        X0 += 0.00000000015 * Math.cos(4.79472245666 + 103883.64757594238 * t);
-        X0 += 0.00000000014 * Math.cos(4.32477700221 + 27250.37784598199 * t);
-        X0 += 0.00000000013 * Math.cos(5.01690772702 + 208173.53416749898 * t);
-        X0 += 0.00000000015 * Math.cos(0.03679463460 + 163298.12945069079 * t);
-        X0 += 0.00000000011 * Math.cos(2.17975116288 + 48713.5615772832 * t);
-        X0 += 0.00000000014 * Math.cos(1.00856446032 + 52755.49387014719 * t);
-        X0 += 0.00000000014 * Math.cos(2.05272684647 + 52041.69723356339 * t);
-        X0 += 0.00000000012 * Math.cos(2.40230884933 + 130363.24963659538 * t);
-        X0 += 0.00000000011 * Math.cos(5.14348161985 + 104276.83096772949 * t);
-        X0 += 0.00000000015 * Math.cos(5.02019535476 + 86457.98475793119 * t);
-        X0 += 0.00000000013 * Math.cos(1.25530162701 + 52027.72755872209 * t);
-        X0 += 0.00000000013 * Math.cos(3.20863649406 + 78469.89497315978 * t);
-        X0 += 0.00000000011 * Math.cos(3.18070767588 + 57503.2823915312 * t);
-        X0 += 0.00000000014 * Math.cos(1.85655805059 + 860.3099287528 * t);
-        X0 += 0.00000000011 * Math.cos(2.30875109886 + 333.8559407694 * t);
-        X0 += 0.00000000011 * Math.cos(1.25057869011 + 20894.5360827764 * t);
-        X0 += 0.00000000012 * Math.cos(0.71489552500 + 51439.92976961659 * t);
-        X0 += 0.00000000012 * Math.cos(4.22401388053 + 52179.73843641149 * t);
-        X0 += 0.00000000012 * Math.cos(5.79488724906 + 19958.6061020676 * t);
-        X0 += 0.00000000011 * Math.cos(5.64222354696 + 641.41356173899 * t);
-        X0 += 0.00000000011 * Math.cos(1.70452703232 + 50536.73676596039 * t);
-        X0 += 0.00000000012 * Math.cos(2.51294543080 + 53757.76563143139 * t);
-        X0 += 0.00000000010 * Math.cos(2.79700804590 + 78339.97549599818 * t);
-        X0 += 0.00000000011 * Math.cos(4.88405989087 + 78800.51393681798 * t);
-        X0 += 0.00000000010 * Math.cos(4.25860529638 + 84944.93427812219 * t);
-        X0 += 0.00000000013 * Math.cos(1.35336167125 + 11.0457002639 * t);
-        X0 += 0.00000000012 * Math.cos(6.06146445452 + 142871.55835826878 * t);
-        X0 += 0.00000000014 * Math.cos(1.53374794610 + 183145.01295611398 * t);
-        X0 += 0.00000000010 * Math.cos(3.55930973128 + 53093.73656913019 * t);
-        X0 += 0.00000000010 * Math.cos(1.32119540129 + 154408.65498906678 * t);
-        X0 += 0.00000000014 * Math.cos(2.93956277298 + 54344.56676543099 * t);
-        X0 += 0.00000000011 * Math.cos(2.53121281826 + 78057.52387628538 * t);
-        X0 += 0.00000000012 * Math.cos(1.32462443773 + 26149.62911631439 * t);
-        X0 += 0.00000000012 * Math.cos(4.33900059348 + 26026.177166834 * t);
-        X0 += 0.00000000010 * Math.cos(1.43862971027 + 25131.61398560359 * t);
-        X0 += 0.00000000010 * Math.cos(2.36278600509 + 91919.56991589899 * t);
-        X0 += 0.00000000014 * Math.cos(3.26945543294 + 53124.98189211819 * t);
-        X0 += 0.00000000012 * Math.cos(5.83805070397 + 76041.85279012559 * t);
-        X0 += 0.00000000010 * Math.cos(3.56286217757 + 77940.20400806518 * t);
-        X0 += 0.00000000010 * Math.cos(4.17334109977 + 6751.0408403458 * t);
-        X0 += 0.00000000010 * Math.cos(0.50269108150 + 28791.5192962498 * t);
-        X0 += 0.00000000013 * Math.cos(5.65469308747 + 50270.341518208 * t);
-        X0 += 0.00000000011 * Math.cos(5.25033320568 + 77520.71936418998 * t);
-        X0 += 0.00000000011 * Math.cos(5.27964044996 + 39763.43339365039 * t);
-        X0 += 0.00000000010 * Math.cos(0.66820373958 + 636.9962720242 * t);
-        X0 += 0.00000000013 * Math.cos(0.95208862336 + 25241.820306823 * t);
-        X0 += 0.00000000009 * Math.cos(2.58296270636 + 130593.29451835579 * t);
-        X0 += 0.00000000009 * Math.cos(1.93570258198 + 26513.8119180882 * t);
-        X0 += 0.00000000009 * Math.cos(3.72792244923 + 25661.9943650602 * t);
-        X0 += 0.00000000013 * Math.cos(0.90383542596 + 26014.60601571519 * t);
-        X0 += 0.00000000013 * Math.cos(4.75978960525 + 26161.20026743319 * t);
-        X0 += 0.00000000010 * Math.cos(3.06250530365 + 24712.1293417284 * t);
-        X0 += 0.00000000010 * Math.cos(2.43967897596 + 104991.50985261079 * t);
-        X0 += 0.00000000010 * Math.cos(1.24342292300 + 52061.40717623499 * t);
-        X0 += 0.00000000011 * Math.cos(5.57723740117 + 183674.70392120858 * t);
-        X0 += 0.00000000009 * Math.cos(5.98881741458 + 4371.8763667742 * t);
-        X0 += 0.00000000010 * Math.cos(5.16716938460 + 23384.2869868986 * t);
-        X0 += 0.00000000009 * Math.cos(2.37191444133 + 80174.90890793978 * t);
-        X0 += 0.00000000012 * Math.cos(3.47156983874 + 52396.2189255872 * t);
-        X0 += 0.00000000013 * Math.cos(5.95714865174 + 1073.6090241908 * t);
-        X0 += 0.00000000009 * Math.cos(3.96944968919 + 103189.13786188899 * t);
-        X0 += 0.00000000009 * Math.cos(0.21796861386 + 156547.08861034496 * t);
-        X0 += 0.00000000009 * Math.cos(2.34791148855 + 130285.73689738619 * t);
-        X0 += 0.00000000009 * Math.cos(3.61118357787 + 104984.39630560997 * t);
-        X0 += 0.00000000011 * Math.cos(3.38048420918 + 19367.1891622328 * t);
-        X0 += 0.00000000009 * Math.cos(2.34685033934 + 24609.0365675098 * t);
-        X0 += 0.00000000009 * Math.cos(5.69493908628 + 76152.05911134499 * t);
-        X0 += 0.00000000009 * Math.cos(0.74268878384 + 76255.15188556358 * t);
-        X0 += 0.00000000009 * Math.cos(4.41648492428 + 31281.270200372 * t);
-        X0 += 0.00000000012 * Math.cos(5.37243378655 + 1699.2792165032 * t);
-        X0 += 0.00000000009 * Math.cos(2.41712554824 + 51130.65144696079 * t);
-        X0 += 0.00000000009 * Math.cos(3.64428252561 + 158746.17595363196 * t);
-        X0 += 0.00000000009 * Math.cos(1.96969875107 + 52797.55008398759 * t);
-        X0 += 0.00000000009 * Math.cos(5.38585404056 + 24844.41553989579 * t);
-        X0 += 0.00000000009 * Math.cos(0.27777099065 + 27331.3907432526 * t);
-        X0 += 0.00000000010 * Math.cos(1.25786678282 + 230239.17477710896 * t);
-        X0 += 0.00000000009 * Math.cos(4.03973091884 + 156314.11975400719 * t);
-        X0 += 0.00000000010 * Math.cos(1.22710162921 + 4022.2625319642 * t);
-        X0 += 0.00000000008 * Math.cos(3.74557002417 + 91805.13062721379 * t);
-        X0 += 0.00000000009 * Math.cos(5.89077044915 + 23866.04650697719 * t);
-        X0 += 0.00000000009 * Math.cos(0.95857873027 + 114.43928868521 * t);
-        X0 += 0.00000000008 * Math.cos(2.65669489808 + 38634.3850806572 * t);
-        X0 += 0.00000000011 * Math.cos(5.69314298563 + 46046.5092436418 * t);
-        X0 += 0.00000000009 * Math.cos(0.74288994112 + 52190.03337714999 * t);
-        X0 += 0.00000000011 * Math.cos(2.58755823478 + 2538.2485042536 * t);
-        X0 += 0.00000000010 * Math.cos(3.10787144925 + 391318.54712361297 * t);
-        X0 += 0.00000000009 * Math.cos(0.81265678038 + 101703.15774082378 * t);
-        X0 += 0.00000000010 * Math.cos(0.76588647880 + 54060.70744656579 * t);
-        X0 += 0.00000000009 * Math.cos(2.54367312949 + 1685.0521225016 * t);
-        X0 += 0.00000000010 * Math.cos(3.69315427501 + 2168.7604822826 * t);
-        X0 += 0.00000000009 * Math.cos(2.36652271316 + 1485.2907067032 * t);
-        X0 += 0.00000000008 * Math.cos(2.14298858852 + 209658.82487420218 * t);
-        X0 += 0.00000000009 * Math.cos(3.83602212713 + 22595.33157470459 * t);
-        X0 += 0.00000000008 * Math.cos(2.74799294290 + 2324.9494088156 * t);
-        X0 += 0.00000000008 * Math.cos(3.42854022505 + 117893.03376878797 * t);
-        X0 += 0.00000000009 * Math.cos(0.89908538700 + 52171.87412988529 * t);
-        X0 += 0.00000000008 * Math.cos(2.16824028856 + 1574.8458012822 * t);
-        X0 += 0.00000000008 * Math.cos(0.66150337713 + 51876.67988887919 * t);
-        X0 += 0.00000000010 * Math.cos(3.52894049374 + 2751.5475996916 * t);
-        X0 += 0.00000000011 * Math.cos(4.78735190834 + 28096.46068073319 * t);
-        X0 += 0.00000000008 * Math.cos(2.16844090943 + 128106.31931499895 * t);
-        X0 += 0.00000000008 * Math.cos(0.74099606624 + 77956.15180375299 * t);
-        X0 += 0.00000000008 * Math.cos(2.46215429910 + 52400.1510788503 * t);
-        X0 += 0.00000000008 * Math.cos(2.46081725742 + 10681.2505365654 * t);
-        X0 += 0.00000000008 * Math.cos(4.46257369959 + 54824.2611086214 * t);
-        X0 += 0.00000000010 * Math.cos(3.07618265192 + 240452.46032331996 * t);
-        X0 += 0.00000000008 * Math.cos(0.55712719908 + 77741.13200662879 * t);
-        X0 += 0.00000000008 * Math.cos(0.42508106268 + 42790.9652750732 * t);
-        X0 += 0.00000000008 * Math.cos(4.70625369395 + 52489.992463018 * t);
-        X0 += 0.00000000008 * Math.cos(3.86744165099 + 156520.30530244438 * t);
-        X0 += 0.00000000007 * Math.cos(5.42400420261 + 26933.9859763254 * t);
-        X0 += 0.00000000007 * Math.cos(6.06395790305 + 52206.1331441528 * t);
-        X0 += 0.00000000008 * Math.cos(2.15800762997 + 17098.43543614181 * t);
-        X0 += 0.00000000007 * Math.cos(4.72158791300 + 50290.905119731 * t);
-        X0 += 0.00000000010 * Math.cos(4.49694993347 + 22065.64060961 * t);
-        X0 += 0.00000000008 * Math.cos(2.65028306976 + 51112.49219969609 * t);
-        X0 += 0.00000000009 * Math.cos(2.14235988572 + 104454.70534051539 * t);
-        X0 += 0.00000000010 * Math.cos(3.27818898040 + 440.8252848776 * t);
-        X0 += 0.00000000008 * Math.cos(5.30486076185 + 3308.4658953804 * t);
-        X0 += 0.00000000007 * Math.cos(1.10080961200 + 27360.58416720139 * t);
-        X0 += 0.00000000008 * Math.cos(0.11827657719 + 187167.27548807819 * t);
-        X0 += 0.00000000009 * Math.cos(4.39445007595 + 156507.74908854539 * t);
-        X0 += 0.00000000007 * Math.cos(0.74218080416 + 51086.09749195479 * t);
-        X0 += 0.00000000008 * Math.cos(0.44382848778 + 430.5303441391 * t);
-        X0 += 0.00000000008 * Math.cos(5.53615944362 + 149288.74325784518 * t);
-        X0 += 0.00000000007 * Math.cos(3.70441477670 + 233681.74972207438 * t);
-        X0 += 0.00000000007 * Math.cos(2.34002720858 + 104248.51979207818 * t);
-        X0 += 0.00000000008 * Math.cos(5.03600399329 + 77314.53381575279 * t);
-        X0 += 0.00000000007 * Math.cos(1.59729628741 + 29396.3690369546 * t);
-        X0 += 0.00000000007 * Math.cos(4.06632874380 + 22779.4372461938 * t);
-        X0 += 0.00000000007 * Math.cos(5.95614295602 + 26290.15653674829 * t);
-        X0 += 0.00000000007 * Math.cos(5.99066738237 + 25885.64974640009 * t);
-        X0 += 0.00000000009 * Math.cos(1.08053818223 + 49.9966219042 * t);
-        X0 += 0.00000000007 * Math.cos(3.03792135842 + 156740.71794488319 * t);
-        X0 += 0.00000000010 * Math.cos(3.37701481763 + 2703.6161546756 * t);
-        X0 += 0.00000000009 * Math.cos(1.51395746159 + 32132.1317229496 * t);
-        X0 += 0.00000000008 * Math.cos(4.55619991306 + 78571.26704569219 * t);
-        X0 += 0.00000000007 * Math.cos(3.14378763001 + 52663.44103440259 * t);
-        X0 += 0.00000000008 * Math.cos(4.91272317043 + 102872.74599223239 * t);
-        X0 += 0.00000000007 * Math.cos(4.34382102751 + 917.9302859818 * t);
-        X0 += 0.00000000007 * Math.cos(0.43580348099 + 52073.84376488279 * t);
-        X0 += 0.00000000007 * Math.cos(3.67619371722 + 149846.19399604558 * t);
-        X0 += 0.00000000007 * Math.cos(4.30856641724 + 77417.62658997139 * t);
-        X0 += 0.00000000009 * Math.cos(2.22375687747 + 90989.16285949759 * t);
-        X0 += 0.00000000007 * Math.cos(0.27683273956 + 81591.84508100279 * t);
-        X0 += 0.00000000009 * Math.cos(1.15427906487 + 56259.79478985279 * t);
-        X0 += 0.00000000009 * Math.cos(2.88360599168 + 18073.7049386502 * t);
-        X0 += 0.00000000008 * Math.cos(2.28353993312 + 32808.6171209156 * t);
-        X0 += 0.00000000008 * Math.cos(1.79224996176 + 207114.15223730978 * t);
-        X0 += 0.00000000008 * Math.cos(0.61620182924 + 48997.6604925808 * t);
-        X0 += 0.00000000008 * Math.cos(1.62443400895 + 579.6875869988 * t);
-        X0 += 0.00000000007 * Math.cos(2.91658615206 + 23267.071997448 * t);
-        X0 += 0.00000000007 * Math.cos(2.74703887915 + 28908.7342857004 * t);
-        X0 += 0.00000000007 * Math.cos(5.70115634056 + 52145.47942214399 * t);
-        X0 += 0.00000000008 * Math.cos(4.37383732921 + 103395.32341032618 * t);
-        X0 += 0.00000000007 * Math.cos(1.57841023127 + 208276.62694171758 * t);
-        X0 += 0.00000000007 * Math.cos(1.00187511506 + 8989.46770543239 * t);
-        X0 += 0.00000000007 * Math.cos(1.08260637181 + 63786.3582415226 * t);
-        X0 += 0.00000000006 * Math.cos(0.95564679710 + 53132.09543911899 * t);
-        X0 += 0.00000000007 * Math.cos(2.64514514998 + 127098.90328117118 * t);
-        X0 += 0.00000000008 * Math.cos(2.96149409416 + 103814.80805420138 * t);
-        X0 += 0.00000000006 * Math.cos(5.07797134858 + 27573.88326263939 * t);
-        X0 += 0.00000000007 * Math.cos(5.91191228675 + 102975.83876645098 * t);
-        X0 += 0.00000000008 * Math.cos(2.98617051725 + 102018.41617342478 * t);
-        X0 += 0.00000000007 * Math.cos(1.96863702347 + 45290.65639321759 * t);
-        X0 += 0.00000000006 * Math.cos(3.83307059240 + 28774.6252361154 * t);
-        X0 += 0.00000000006 * Math.cos(1.83055443881 + 23401.181047033 * t);
-        X0 += 0.00000000006 * Math.cos(1.38930109810 + 80462.79676800959 * t);
-        X0 += 0.00000000006 * Math.cos(0.67582514582 + 106262.81204951399 * t);
-        X0 += 0.00000000008 * Math.cos(1.96535036231 + 51257.8759971666 * t);
-        X0 += 0.00000000006 * Math.cos(3.61870647781 + 23704.71012679799 * t);
-        X0 += 0.00000000006 * Math.cos(2.04491855340 + 28471.0961563504 * t);
-        X0 += 0.00000000007 * Math.cos(1.61837202878 + 53311.4831550416 * t);
-        X0 += 0.00000000007 * Math.cos(5.53291690668 + 1802.3719907218 * t);
-        X0 += 0.00000000007 * Math.cos(5.32851714437 + 79994.83177765518 * t);
-        X0 += 0.00000000009 * Math.cos(1.73174499580 + 2014.9816717978 * t);
-        X0 += 0.00000000007 * Math.cos(5.04612545544 + 52277.768801414 * t);
-        X0 += 0.00000000006 * Math.cos(6.06855779639 + 53438.96364572659 * t);
-        X0 += 0.00000000007 * Math.cos(1.80593240016 + 29580.4747084438 * t);
-        X0 += 0.00000000007 * Math.cos(3.67914527744 + 27388.72995977919 * t);
-        X0 += 0.00000000007 * Math.cos(1.98447975377 + 24787.0763233692 * t);
-        X0 += 0.00000000006 * Math.cos(3.77150246945 + 106470.37642667518 * t);
-        X0 += 0.00000000006 * Math.cos(6.11601315825 + 191.4482661116 * t);
-        X0 += 0.00000000007 * Math.cos(2.88869753965 + 104127.26777059489 * t);
-        X0 += 0.00000000006 * Math.cos(2.29442353801 + 1135.6768718932 * t);
-        X0 += 0.00000000007 * Math.cos(0.34091991598 + 27623.8798845436 * t);
-        X0 += 0.00000000007 * Math.cos(5.32270511523 + 24551.92639860479 * t);
-        X0 += 0.00000000008 * Math.cos(0.77567524248 + 51861.62010327879 * t);
-        X0 += 0.00000000007 * Math.cos(4.55467358235 + 107679.74822257696 * t);
-        X0 += 0.00000000008 * Math.cos(3.58552572007 + 51554.06248230919 * t);
-        X0 += 0.00000000007 * Math.cos(2.84651949085 + 52213.9393187862 * t);
-        X0 += 0.00000000008 * Math.cos(1.66020848442 + 4083.9885067044 * t);
-        X0 += 0.00000000007 * Math.cos(5.58797516267 + 25572.43927048119 * t);
-        X0 += 0.00000000007 * Math.cos(0.07564986854 + 26603.3670126672 * t);
-        X0 += 0.00000000007 * Math.cos(5.38412095716 + 415.5524906121 * t);
-        X0 += 0.00000000006 * Math.cos(1.24514352941 + 2686.7220945412 * t);
-        X0 += 0.00000000008 * Math.cos(1.12257158980 + 54190.78795494619 * t);
-        X0 += 0.00000000007 * Math.cos(4.30357149579 + 48091.817776444 * t);
-        X0 += 0.00000000006 * Math.cos(3.84286985257 + 78043.29678228378 * t);
-        X0 += 0.00000000007 * Math.cos(4.29733971410 + 2974.609954611 * t);
-        X0 += 0.00000000006 * Math.cos(1.70009289223 + 53661.0969898516 * t);
-        X0 += 0.00000000006 * Math.cos(0.21405293391 + 104426.39416486409 * t);
-        X0 += 0.00000000006 * Math.cos(5.31095660951 + 26.2983197998 * t);
-        X0 += 0.00000000006 * Math.cos(0.26081525757 + 27883.16158529519 * t);
-        X0 += 0.00000000006 * Math.cos(3.09307209285 + 156523.53751408719 * t);
-        X0 += 0.00000000006 * Math.cos(1.52479776631 + 225.8292684102 * t);
-        X0 += 0.00000000008 * Math.cos(0.22164311055 + 120417.67842777158 * t);
-        X0 += 0.00000000008 * Math.cos(5.86283230643 + 51120.35650622229 * t);
-        X0 += 0.00000000007 * Math.cos(1.41502656935 + 1884.9011634174 * t);
-        X0 += 0.00000000006 * Math.cos(4.68109524986 + 149756.70824819959 * t);
-        X0 += 0.00000000008 * Math.cos(3.80478888311 + 53258.88651544199 * t);
-        X0 += 0.00000000006 * Math.cos(5.07032980124 + 130005.80396999417 * t);
-        X0 += 0.00000000007 * Math.cos(1.36856874001 + 162810.49469943657 * t);
-        X0 += 0.00000000006 * Math.cos(2.21234472657 + 27441.651886591 * t);
-        X0 += 0.00000000006 * Math.cos(3.45128030464 + 24734.1543965574 * t);
-        X0 += 0.00000000008 * Math.cos(3.49263998453 + 422.6660376129 * t);
-        X0 += 0.00000000006 * Math.cos(5.52344781030 + 155460.92337225519 * t);
-        X0 += 0.00000000006 * Math.cos(4.38638116269 + 50160.82461135059 * t);
-        X0 += 0.00000000006 * Math.cos(5.35041562795 + 78262.22495201428 * t);
-        X0 += 0.00000000006 * Math.cos(3.67662399741 + 222.8603229936 * t);
-        X0 += 0.00000000006 * Math.cos(3.76321444127 + 78225.57638908479 * t);
-        X0 += 0.00000000007 * Math.cos(1.16300487672 + 30110.1656735384 * t);
-        X0 += 0.00000000006 * Math.cos(4.67707783228 + 78597.56536549199 * t);
-        X0 += 0.00000000006 * Math.cos(2.87078629973 + 95.9792272178 * t);
-        X0 += 0.00000000006 * Math.cos(5.36576953243 + 76468.45098100159 * t);
-        X0 += 0.00000000006 * Math.cos(0.44311785186 + 76777.72930365738 * t);
-        X0 += 0.00000000005 * Math.cos(3.48830916279 + 58220.0348645238 * t);
-        X0 += 0.00000000006 * Math.cos(5.17863319897 + 171292.65789271498 * t);
-        X0 += 0.00000000006 * Math.cos(4.20102757189 + 29864.334027309 * t);
-        X0 += 0.00000000006 * Math.cos(1.46259745932 + 22311.4722558394 * t);
-        X0 += 0.00000000006 * Math.cos(4.38694980798 + 76991.02839909539 * t);
-        X0 += 0.00000000005 * Math.cos(0.68949263605 + 27410.5807891056 * t);
-        X0 += 0.00000000005 * Math.cos(4.97413239516 + 24765.2254940428 * t);
-        X0 += 0.00000000006 * Math.cos(1.69366740663 + 51092.7260508548 * t);
-        X0 += 0.00000000007 * Math.cos(2.78056963159 + 34102.10134449819 * t);
-        X0 += 0.00000000007 * Math.cos(1.77574194617 + 151199.94274106238 * t);
-        X0 += 0.00000000006 * Math.cos(5.55737889155 + 31903.01400121119 * t);
-        X0 += 0.00000000006 * Math.cos(0.10624613966 + 20272.7922819372 * t);
-        X0 += 0.00000000006 * Math.cos(2.86083846875 + 104874.18998439058 * t);
-        X0 += 0.00000000005 * Math.cos(2.16795888097 + 155475.15046625677 * t);
-        X0 += 0.00000000005 * Math.cos(6.14116962879 + 128747.35003836859 * t);
-        X0 += 0.00000000005 * Math.cos(5.05100044910 + 26500.27423844859 * t);
-        X0 += 0.00000000005 * Math.cos(0.61262458211 + 25675.5320446998 * t);
-        X0 += 0.00000000006 * Math.cos(2.15084946795 + 3492.5715668696 * t);
-        X0 += 0.00000000007 * Math.cos(2.65435909947 + 13675.5302520762 * t);
-        X0 += 0.00000000005 * Math.cos(5.69197138572 + 53551.5800829942 * t);
-        X0 += 0.00000000006 * Math.cos(1.72837394563 + 76137.83201734339 * t);
-        X0 += 0.00000000005 * Math.cos(0.34624525970 + 60170.3347251726 * t);
-        X0 += 0.00000000005 * Math.cos(1.93171690707 + 5193.3670587978 * t);
-        X0 += 0.00000000005 * Math.cos(6.05655614068 + 27353.47062020059 * t);
-        X0 += 0.00000000007 * Math.cos(4.37521324748 + 9745.3205558566 * t);
-        X0 += 0.00000000005 * Math.cos(2.02517578450 + 628.8515860501 * t);
-        X0 += 0.00000000007 * Math.cos(4.81829524389 + 169093.57054942798 * t);
-        X0 += 0.00000000005 * Math.cos(0.20090403597 + 9123.5767550174 * t);
-        X0 += 0.00000000006 * Math.cos(4.84978213740 + 25462.2329492618 * t);
-        X0 += 0.00000000006 * Math.cos(0.81384289381 + 26713.57333388659 * t);
-        X0 += 0.00000000007 * Math.cos(2.97463476206 + 2641.3412784722 * t);
-        X0 += 0.00000000007 * Math.cos(4.23604941684 + 1577.3435424478 * t);
-        X0 += 0.00000000005 * Math.cos(2.70097411082 + 52812.8025551726 * t);
-        X0 += 0.00000000006 * Math.cos(1.52077024889 + 156531.30018480319 * t);
-        X0 += 0.00000000005 * Math.cos(1.19912051467 + 26235.9818660005 * t);
-        X0 += 0.00000000005 * Math.cos(5.77803835359 + 71378.55953479178 * t);
-        X0 += 0.00000000007 * Math.cos(4.47073325724 + 1083.0802322936 * t);
-        X0 += 0.00000000005 * Math.cos(4.73755202618 + 26034.8069892598 * t);
-        X0 += 0.00000000005 * Math.cos(0.92607300503 + 26140.99929388859 * t);
-        X0 += 0.00000000006 * Math.cos(3.87149168929 + 28213.78054895339 * t);
-        X0 += 0.00000000005 * Math.cos(0.44047672764 + 1243.4876016784 * t);
-        X0 += 0.00000000006 * Math.cos(4.83520525387 + 437.6438911399 * t);
-        X0 += 0.00000000005 * Math.cos(4.36934946235 + 104035.22069664019 * t);
-        X0 += 0.00000000005 * Math.cos(3.74810256898 + 52098.05573916449 * t);
-        X0 += 0.00000000005 * Math.cos(2.74132817040 + 65538.25598994759 * t);
-        X0 += 0.00000000005 * Math.cos(4.88320109198 + 104301.61594439259 * t);
-        X0 += 0.00000000005 * Math.cos(0.04883294047 + 78697.42116259939 * t);
-        X0 += 0.00000000006 * Math.cos(5.21822734458 + 621.7438008392 * t);
-        X0 += 0.00000000005 * Math.cos(0.11277607968 + 104401.60918820098 * t);
-        X0 += 0.00000000005 * Math.cos(0.32519606443 + 53654.67285721279 * t);
-        X0 += 0.00000000005 * Math.cos(6.14333001424 + 51006.21803173979 * t);
-        X0 += 0.00000000006 * Math.cos(4.56143654817 + 104241.40624507738 * t);
-        X0 += 0.00000000005 * Math.cos(0.65495415751 + 104668.00443595338 * t);
-        X0 += 0.00000000004 * Math.cos(6.26437463075 + 76532.58707178998 * t);
-        X0 += 0.00000000005 * Math.cos(5.16993727796 + 23389.451694197 * t);
-        X0 += 0.00000000005 * Math.cos(0.49368775325 + 28786.3545889514 * t);
-        X0 += 0.00000000004 * Math.cos(1.13517998278 + 31775.5335105262 * t);
-        X0 += 0.00000000004 * Math.cos(4.52844504843 + 20400.2727726222 * t);
-        X0 += 0.00000000005 * Math.cos(4.46403422032 + 112545.88789950538 * t);
-        X0 += 0.00000000005 * Math.cos(6.09620933760 + 78265.19389743089 * t);
-        X0 += 0.00000000006 * Math.cos(2.35286352659 + 51688.1715318942 * t);
-        X0 += 0.00000000005 * Math.cos(5.08976870339 + 25863.55834587229 * t);
-        X0 += 0.00000000004 * Math.cos(2.73813240429 + 35211.47989659159 * t);
-        X0 += 0.00000000004 * Math.cos(2.92549262692 + 16964.3263865568 * t);
-        X0 += 0.00000000005 * Math.cos(3.82552908418 + 487.6347512542 * t);
-        X0 += 0.00000000004 * Math.cos(1.08485860111 + 27039.97976483379 * t);
-        X0 += 0.00000000004 * Math.cos(4.57876643010 + 25135.8265183146 * t);
-        X0 += 0.00000000005 * Math.cos(4.59959229753 + 25778.62481891839 * t);
-        X0 += 0.00000000005 * Math.cos(1.06403273368 + 26397.18146422999 * t);
-        X0 += 0.00000000005 * Math.cos(2.09930628583 + 189853.99758261938 * t);
-        X0 += 0.00000000005 * Math.cos(4.02283478855 + 78373.91574594198 * t);
-        X0 += 0.00000000004 * Math.cos(1.04243464310 + 19202.75325164339 * t);
-        X0 += 0.00000000004 * Math.cos(0.75081825828 + 263097.78851992876 * t);
-        X0 += 0.00000000004 * Math.cos(1.67917095725 + 33480.357543659 * t);
-        X0 += 0.00000000004 * Math.cos(3.98445407396 + 18695.4487394894 * t);
-        X0 += 0.00000000005 * Math.cos(0.60115238757 + 703.6331846174 * t);
-        X0 += 0.00000000004 * Math.cos(5.10698405361 + 156377.85565231058 * t);
-        X0 += 0.00000000005 * Math.cos(2.32798791782 + 2015.6710861598 * t);
-        X0 += 0.00000000004 * Math.cos(0.61980953649 + 76998.14194609619 * t);
-        X0 += 0.00000000004 * Math.cos(3.19010933277 + 1368.660252845 * t);
-        X0 += 0.00000000004 * Math.cos(0.12965867040 + 129586.31932611899 * t);
-        X0 += 0.00000000004 * Math.cos(1.49194500309 + 45424.76544280259 * t);
-        X0 += 0.00000000004 * Math.cos(5.39873919994 + 28928.40404660019 * t);
-        X0 += 0.00000000004 * Math.cos(0.26488583127 + 23247.4022365482 * t);
-        X0 += 0.00000000004 * Math.cos(2.35188051852 + 20452.8694122218 * t);
-        X0 += 0.00000000004 * Math.cos(3.31174451269 + 31722.9368709266 * t);
-        X0 += 0.00000000004 * Math.cos(2.30331784549 + 26238.95081141709 * t);
-        X0 += 0.00000000004 * Math.cos(2.77836300783 + 52355.883413433 * t);
-        X0 += 0.00000000004 * Math.cos(3.46342382133 + 51538.81001112419 * t);
-        X0 += 0.00000000004 * Math.cos(3.69944590805 + 32278.926155821 * t);
-        X0 += 0.00000000004 * Math.cos(1.96417912316 + 19896.8801273274 * t);
-        X0 += 0.00000000004 * Math.cos(6.03499106435 + 23976.2528281966 * t);
-        X0 += 0.00000000004 * Math.cos(1.70188026990 + 78905.12298646157 * t);
-        X0 += 0.00000000004 * Math.cos(1.66509444770 + 87648.55043279778 * t);
-        X0 += 0.00000000004 * Math.cos(4.41949123763 + 223180.57631579356 * t);
-        X0 += 0.00000000004 * Math.cos(3.00071021966 + 52336.2136525332 * t);
-        X0 += 0.00000000004 * Math.cos(5.68676014339 + 50912.6489205702 * t);
-        X0 += 0.00000000004 * Math.cos(1.96557859005 + 199599.31813847595 * t);
-        X0 += 0.00000000005 * Math.cos(5.12444942434 + 26090.8720869908 * t);
-        X0 += 0.00000000005 * Math.cos(0.53917560687 + 26084.93419615759 * t);
-        X0 += 0.00000000004 * Math.cos(3.34711834324 + 25923.46723098479 * t);
-        X0 += 0.00000000004 * Math.cos(2.31650668797 + 26252.33905216361 * t);
-        X0 += 0.00000000005 * Math.cos(1.46787228776 + 50951.98844236979 * t);
-        X0 += 0.00000000005 * Math.cos(0.84223070790 + 13705.8571130806 * t);
-        X0 += 0.00000000005 * Math.cos(4.82139432331 + 38469.94917006779 * t);
-        X0 += 0.00000000005 * Math.cos(4.69896171289 + 18227.483749135 * t);
-        X0 += 0.00000000005 * Math.cos(0.96466331832 + 33948.3225340134 * t);
-        X0 += 0.00000000004 * Math.cos(4.35820339713 + 74935.57376844239 * t);
-        X0 += 0.00000000004 * Math.cos(0.37589110708 + 26130.7862164776 * t);
-        X0 += 0.00000000004 * Math.cos(5.28773392413 + 26045.0200666708 * t);
-        X0 += 0.00000000005 * Math.cos(6.00635216618 + 51102.19725895759 * t);
-        X0 += 0.00000000004 * Math.cos(1.48479477953 + 104771.09721017198 * t);
-        X0 += 0.00000000004 * Math.cos(0.75542038962 + 61165.27398858079 * t);
-        X0 += 0.00000000004 * Math.cos(1.07035769632 + 24079.34560241519 * t);
-        X0 += 0.00000000004 * Math.cos(3.34025458568 + 18319.5365848796 * t);
-        X0 += 0.00000000004 * Math.cos(2.32337044553 + 33856.2696982688 * t);
-        X0 += 0.00000000005 * Math.cos(3.80744702100 + 51315.49635439559 * t);
-        X0 += 0.00000000004 * Math.cos(3.26438690958 + 159969.99379441059 * t);
-        X0 += 0.00000000005 * Math.cos(5.53495278972 + 24822.3356629478 * t);
-        X0 += 0.00000000005 * Math.cos(5.02554220823 + 107692.22499299659 * t);
-        X0 += 0.00000000004 * Math.cos(3.44129218830 + 73891.83305794839 * t);
-        X0 += 0.00000000005 * Math.cos(3.05069290377 + 49637.55777889479 * t);
-        X0 += 0.00000000005 * Math.cos(3.22665320828 + 35077.37084700659 * t);
-        X0 += 0.00000000005 * Math.cos(0.63333030208 + 77929.85348395319 * t);
-        X0 += 0.00000000004 * Math.cos(3.70617022011 + 106684.80895916879 * t);
-        X0 += 0.00000000004 * Math.cos(2.87321007380 + 25248.9338538238 * t);
-        X0 += 0.00000000004 * Math.cos(2.79041495741 + 26926.87242932459 * t);
-        X0 += 0.00000000005 * Math.cos(1.54666149626 + 130020.03106399579 * t);
-        X0 += 0.00000000004 * Math.cos(1.73965439817 + 42430.4857272918 * t);
-        X0 += 0.00000000004 * Math.cos(3.25018015096 + 130907.48069822539 * t);
-        X0 += 0.00000000004 * Math.cos(2.06353106693 + 76352.50994150538 * t);
-        X0 += 0.00000000004 * Math.cos(3.82039111865 + 50690.51557644519 * t);
-        X0 += 0.00000000004 * Math.cos(0.40278258619 + 27047.0260015318 * t);
-        X0 += 0.00000000004 * Math.cos(5.26084244502 + 25128.78028161659 * t);
-        X0 += 0.00000000003 * Math.cos(5.68912682186 + 76094.94894243999 * t);
-        X0 += 0.00000000003 * Math.cos(4.44502926835 + 25980.59783464459 * t);
-        X0 += 0.00000000003 * Math.cos(1.21859576286 + 26195.2084485038 * t);
-        X0 += 0.00000000004 * Math.cos(4.63561794007 + 52164.76058288449 * t);
-        X0 += 0.00000000004 * Math.cos(6.13459757306 + 118828.96374949679 * t);
-        X0 += 0.00000000005 * Math.cos(0.15089449096 + 45455.092303807 * t);
-        X0 += 0.00000000004 * Math.cos(2.55610884099 + 215941.90072419358 * t);
-        X0 += 0.00000000004 * Math.cos(5.41986884632 + 25991.92391435639 * t);
-        X0 += 0.00000000004 * Math.cos(0.24375618489 + 26183.88236879199 * t);
-        X0 += 0.00000000004 * Math.cos(4.35391878884 + 48153.54375118419 * t);
-        X0 += 0.00000000004 * Math.cos(0.44819649652 + 16496.3613962024 * t);
-        X0 += 0.00000000004 * Math.cos(5.21542853469 + 35679.44488694599 * t);
-        X0 += 0.00000000004 * Math.cos(4.59443055400 + 8044.5250639284 * t);
-        X0 += 0.00000000005 * Math.cos(1.35623327800 + 10059.5067357262 * t);
-        X0 += 0.00000000004 * Math.cos(1.91641090854 + 49424.25868345679 * t);
-        X0 += 0.00000000004 * Math.cos(3.88762025023 + 51040.1294112552 * t);
-        X0 += 0.00000000004 * Math.cos(2.46145540531 + 128843.32926558638 * t);
-        X0 += 0.00000000004 * Math.cos(5.39518200455 + 23336.3555418826 * t);
-        X0 += 0.00000000003 * Math.cos(3.16690823789 + 202.2533951741 * t);
-        X0 += 0.00000000004 * Math.cos(2.48121871677 + 52015.39891376359 * t);
-        X0 += 0.00000000003 * Math.cos(1.35017943249 + 23113.2931869632 * t);
-        X0 += 0.00000000003 * Math.cos(4.31344559872 + 29062.5130961852 * t);
-        X0 += 0.00000000003 * Math.cos(0.13992300676 + 25794.492357197 * t);
-        X0 += 0.00000000003 * Math.cos(5.52370202445 + 26381.3139259514 * t);
-        X0 += 0.00000000004 * Math.cos(1.99797546531 + 251775.12442162436 * t);
-        X0 += 0.00000000004 * Math.cos(0.78738841944 + 23543.23050468179 * t);
-        X0 += 0.00000000004 * Math.cos(4.87623661177 + 28632.5757784666 * t);
-        X0 += 0.00000000003 * Math.cos(2.34677335126 + 26279.35140768579 * t);
-        X0 += 0.00000000003 * Math.cos(3.31685167995 + 25896.4548754626 * t);
-        X0 += 0.00000000004 * Math.cos(4.17686572959 + 25998.4173937282 * t);
-        X0 += 0.00000000004 * Math.cos(1.48675930162 + 26177.38888942019 * t);
-        X0 += 0.00000000003 * Math.cos(2.83722079462 + 49850.85687433279 * t);
-        X0 += 0.00000000004 * Math.cos(6.14972721531 + 32217.2001810808 * t);
-        X0 += 0.00000000004 * Math.cos(0.04334468913 + 14235.5480781752 * t);
-        X0 += 0.00000000004 * Math.cos(5.62028034208 + 37940.25820497319 * t);
-        X0 += 0.00000000003 * Math.cos(3.19751497889 + 41494.55574658299 * t);
-        X0 += 0.00000000004 * Math.cos(3.72289178215 + 261988.40996783535 * t);
-        X0 += 0.00000000004 * Math.cos(3.03839569378 + 168959.46149984296 * t);
-        X0 += 0.00000000004 * Math.cos(2.70356592860 + 51995.7291528638 * t);
-        X0 += 0.00000000003 * Math.cos(0.89067609209 + 154308.66174525839 * t);
-        X0 += 0.00000000003 * Math.cos(5.65136861530 + 24292.64469785319 * t);
-        X0 += 0.00000000003 * Math.cos(0.19486754591 + 78397.81847430758 * t);
-        X0 += 0.00000000003 * Math.cos(3.22218438408 + 202420.14928260217 * t);
-        X0 += 0.00000000004 * Math.cos(1.13844882216 + 179172.74704605396 * t);
-        X0 += 0.00000000003 * Math.cos(4.85336780642 + 79116.90580647459 * t);
-        X0 += 0.00000000003 * Math.cos(2.26852923431 + 148532.89040742096 * t);
-        X0 += 0.00000000004 * Math.cos(2.92925215887 + 24182.4383766338 * t);
-        X0 += 0.00000000003 * Math.cos(1.82348628585 + 26114.201461374 * t);
-        X0 += 0.00000000003 * Math.cos(3.84013874536 + 26061.60482177439 * t);
-        X0 += 0.00000000004 * Math.cos(1.84151604889 + 23962.02573419499 * t);
-        X0 += 0.00000000003 * Math.cos(5.32480281715 + 47803.9299163742 * t);
-        X0 += 0.00000000003 * Math.cos(3.67756235555 + 99979.73619952259 * t);
-        X0 += 0.00000000003 * Math.cos(3.11077916313 + 27993.3679065146 * t);
-        X0 += 0.00000000004 * Math.cos(3.05439250241 + 156954.01704032118 * t);
-        X0 += 0.00000000004 * Math.cos(5.73212182199 + 192828.60753723037 * t);
-        X0 += 0.00000000003 * Math.cos(3.93077791188 + 130446.14426677099 * t);
-        X0 += 0.00000000003 * Math.cos(0.29895063711 + 25344.9130810416 * t);
-        X0 += 0.00000000003 * Math.cos(3.65489060162 + 25764.39772491679 * t);
-        X0 += 0.00000000003 * Math.cos(1.43670342990 + 23420.85080793279 * t);
-        X0 += 0.00000000003 * Math.cos(4.22692160131 + 28754.9554752156 * t);
-        X0 += 0.00000000003 * Math.cos(3.29097711242 + 22909.7573510066 * t);
-        X0 += 0.00000000004 * Math.cos(0.29131403040 + 50476.52706664519 * t);
-        X0 += 0.00000000003 * Math.cos(4.88894436553 + 133767.65136415116 * t);
-        X0 += 0.00000000003 * Math.cos(4.21457884017 + 52072.0240945678 * t);
-        X0 += 0.00000000003 * Math.cos(3.61792324623 + 77622.29586298359 * t);
-        X0 += 0.00000000003 * Math.cos(0.47995189315 + 52016.5045483562 * t);
-        X0 += 0.00000000003 * Math.cos(2.65810233456 + 273311.07406613971 * t);
-        X0 += 0.00000000004 * Math.cos(3.16714765573 + 25014.29411738339 * t);
-        X0 += 0.00000000003 * Math.cos(1.68763185836 + 25970.58327335399 * t);
-        X0 += 0.00000000003 * Math.cos(3.97599317285 + 26205.22300979439 * t);
-        X0 += 0.00000000003 * Math.cos(3.08446305860 + 54879.422437824 * t);
-        X0 += 0.00000000004 * Math.cos(5.27937253398 + 27511.4678735372 * t);
-        X0 += 0.00000000004 * Math.cos(0.38425249723 + 24664.3384096112 * t);
-        X0 += 0.00000000003 * Math.cos(2.30032754148 + 33917.99567300899 * t);
-        X0 += 0.00000000003 * Math.cos(3.36329748973 + 18257.8106101394 * t);
-        X0 += 0.00000000004 * Math.cos(3.76381458115 + 61921.12683900499 * t);
-        X0 += 0.00000000003 * Math.cos(2.88335625086 + 222224.97657418498 * t);
-        X0 += 0.00000000003 * Math.cos(1.15891911019 + 78249.48233072099 * t);
-        X0 += 0.00000000003 * Math.cos(5.96024730236 + 123554.36581794015 * t);
-        X0 += 0.00000000004 * Math.cos(3.05981714265 + 158116.49174472898 * t);
-        X0 += 0.00000000003 * Math.cos(1.88338582885 + 26387.0295358434 * t);
-        X0 += 0.00000000003 * Math.cos(5.82360005059 + 25440.89230825939 * t);
-        X0 += 0.00000000003 * Math.cos(5.04796024742 + 26983.9825982296 * t);
-        X0 += 0.00000000003 * Math.cos(0.61566478379 + 25191.8236849188 * t);
-        X0 += 0.00000000003 * Math.cos(0.74835060715 + 79487.52726550119 * t);
-        X0 += 0.00000000003 * Math.cos(1.69642678501 + 210921.98223678036 * t);
-        X0 += 0.00000000003 * Math.cos(0.50518757578 + 1263.15736257819 * t);
-        X0 += 0.00000000003 * Math.cos(3.11959949863 + 50490.75416064679 * t);
-        X0 += 0.00000000003 * Math.cos(2.27314510672 + 73.297125859 * t);
-        X0 += 0.00000000003 * Math.cos(4.69667538764 + 55484.27217852879 * t);
-        X0 += 0.00000000003 * Math.cos(1.39779381233 + 1382.8873468466 * t);
-        X0 += 0.00000000003 * Math.cos(3.55178169020 + 158438.61833266239 * t);
-        X0 += 0.00000000003 * Math.cos(1.10945585352 + 24601.92302050899 * t);
-        X0 += 0.00000000003 * Math.cos(0.76074196322 + 242985.40360737636 * t);
-        X0 += 0.00000000003 * Math.cos(0.70803012800 + 1471.7530270636 * t);
-        X0 += 0.00000000003 * Math.cos(4.72386292146 + 146505.58156934578 * t);
-        X0 += 0.00000000003 * Math.cos(5.04493378788 + 24510.5595991264 * t);
-        X0 += 0.00000000003 * Math.cos(0.61869124333 + 27665.246684022 * t);
-        X0 += 0.00000000004 * Math.cos(1.05779479813 + 25810.86814783279 * t);
-        X0 += 0.00000000004 * Math.cos(4.60583023308 + 26364.9381353156 * t);
-        X0 += 0.00000000003 * Math.cos(4.81672439155 + 229463.65216578495 * t);
-        X0 += 0.00000000003 * Math.cos(3.49736618564 + 50600.9604818662 * t);
-        X0 += 0.00000000003 * Math.cos(1.03986340949 + 185943.45764729957 * t);
-        X0 += 0.00000000003 * Math.cos(0.69061740155 + 15406.65260500879 * t);
-        X0 += 0.00000000003 * Math.cos(0.29778988754 + 179966.86716554638 * t);
-        X0 += 0.00000000003 * Math.cos(1.31624723631 + 26202.3022484876 * t);
-        X0 += 0.00000000003 * Math.cos(4.92485338063 + 24815.222115947 * t);
-        X0 += 0.00000000003 * Math.cos(0.60305414741 + 963.4027029714 * t);
-        X0 += 0.00000000003 * Math.cos(1.94033818226 + 203375.74902421077 * t);
-        X0 += 0.00000000003 * Math.cos(3.48095850628 + 2352.8661537718 * t);
-        X0 += 0.00000000003 * Math.cos(3.83630727282 + 289185.69166150296 * t);
-        X0 += 0.00000000003 * Math.cos(1.42673173544 + 29000.787121445 * t);
-        X0 += 0.00000000003 * Math.cos(4.23689329577 + 23175.01916170339 * t);
-        X0 += 0.00000000003 * Math.cos(2.74878005228 + 2820.8311441262 * t);
-        X0 += 0.00000000003 * Math.cos(1.35908128792 + 49201.1963285374 * t);
-        X0 += 0.00000000002 * Math.cos(6.25037565978 + 5019.9184874132 * t);
-        X0 += 0.00000000003 * Math.cos(2.38673232157 + 51734.98099827079 * t);
-        X0 += 0.00000000003 * Math.cos(2.84532132702 + 25914.45457018961 * t);
-        X0 += 0.00000000003 * Math.cos(2.81830370419 + 26261.35171295879 * t);
-        X0 += 0.00000000003 * Math.cos(5.82072785115 + 143164.96914264598 * t);
-        X0 += 0.00000000002 * Math.cos(2.01367500779 + 278972.40611529196 * t);
-        X0 += 0.00000000003 * Math.cos(5.22041687007 + 51745.27593900929 * t);
-        X0 += 0.00000000002 * Math.cos(3.03566163825 + 25554.28002321649 * t);
-        X0 += 0.00000000002 * Math.cos(2.62796339296 + 26621.52625993189 * t);
-        X0 += 0.00000000003 * Math.cos(5.20753478644 + 25530.4524033738 * t);
-        X0 += 0.00000000003 * Math.cos(0.45609024477 + 26645.3538797746 * t);
-        X0 += 0.00000000003 * Math.cos(5.03565808597 + 25626.5667101198 * t);
-        X0 += 0.00000000003 * Math.cos(0.62796694524 + 26549.23957302859 * t);
-        X0 += 0.00000000003 * Math.cos(5.34361577728 + 20956.2620575166 * t);
-        X0 += 0.00000000003 * Math.cos(0.32000925393 + 31219.5442256318 * t);
-        X0 += 0.00000000003 * Math.cos(4.44133523435 + 283524.35961235073 * t);
-        X0 += 0.00000000002 * Math.cos(4.58931827360 + 21202.093703746 * t);
-        X0 += 0.00000000002 * Math.cos(1.07430675761 + 30973.7125794024 * t);
-        X0 += 0.00000000003 * Math.cos(2.48443590939 + 76358.24465978218 * t);
-        X0 += 0.00000000003 * Math.cos(1.87893732728 + 543.9180590962 * t);
-        X0 += 0.00000000002 * Math.cos(1.40938866249 + 257436.45647077652 * t);
-        X0 += 0.00000000003 * Math.cos(0.83289676584 + 25361.421121704 * t);
-        X0 += 0.00000000003 * Math.cos(4.83072826537 + 26814.38516144439 * t);
-        X0 += 0.00000000002 * Math.cos(1.24497717708 + 57369.17334194619 * t);
-        X0 += 0.00000000003 * Math.cos(5.41525530380 + 52186.8519834123 * t);
-        X0 += 0.00000000002 * Math.cos(2.63620968801 + 31127.49138988719 * t);
-        X0 += 0.00000000002 * Math.cos(3.02741534320 + 21048.3148932612 * t);
-        X0 += 0.00000000002 * Math.cos(0.06083055027 + 152155.54248267098 * t);
-        X0 += 0.00000000002 * Math.cos(0.16837305460 + 27133.05797776179 * t);
-        X0 += 0.00000000002 * Math.cos(3.23690883920 + 267649.74201698754 * t);
-        X0 += 0.00000000003 * Math.cos(4.73128149211 + 21650.38893320061 * t);
-        X0 += 0.00000000003 * Math.cos(0.93234353910 + 30525.41734994779 * t);
-        X0 += 0.00000000003 * Math.cos(6.06730146110 + 128857.55635958798 * t);
-        X0 += 0.00000000002 * Math.cos(2.18169836096 + 29266.0489321418 * t);
-        X0 += 0.00000000002 * Math.cos(0.71621395615 + 5635.0337293524 * t);
-        X0 += 0.00000000002 * Math.cos(2.11602382972 + 138319.60486120995 * t);
-        X0 += 0.00000000003 * Math.cos(4.34402660372 + 53338.28098755619 * t);
-        X0 += 0.00000000002 * Math.cos(3.25230557265 + 102129.75593169978 * t);
-        X0 += 0.00000000002 * Math.cos(4.82283999680 + 5687.630368952 * t);
-        X0 += 0.00000000003 * Math.cos(3.82055258756 + 21716.02677480 * t);
-        X0 += 0.00000000002 * Math.cos(0.63318713248 + 54862.5283776896 * t);
-        X0 += 0.00000000003 * Math.cos(3.39676430082 + 24971.41104247999 * t);
-        X0 += 0.00000000003 * Math.cos(2.26686073039 + 27204.3952406684 * t);
-        X0 += 0.00000000002 * Math.cos(3.67279256888 + 143980.93691036216 * t);
-        X0 += 0.00000000002 * Math.cos(2.27453733075 + 220025.88923089796 * t);
-        X0 += 0.00000000002 * Math.cos(0.03187793840 + 67608.75720795698 * t);
-        X0 += 0.00000000002 * Math.cos(5.01817813007 + 26165.65368555809 * t);
-        X0 += 0.00000000002 * Math.cos(0.39913665768 + 241561.83887541336 * t);
-        X0 += 0.00000000002 * Math.cos(0.36962686584 + 236702.32775738496 * t);
-        X0 += 0.00000000003 * Math.cos(3.12809886294 + 206584.46127221518 * t);
-        X0 += 0.00000000003 * Math.cos(2.97200687644 + 189386.03259226495 * t);
-        X0 += 0.00000000002 * Math.cos(5.24239507145 + 180496.55813064099 * t);
-        X0 += 0.00000000003 * Math.cos(2.68824003168 + 27161.512165765 * t);
-        X0 += 0.00000000003 * Math.cos(0.86347662918 + 49976.71893986139 * t);
-        X0 += 0.00000000002 * Math.cos(6.12457483767 + 27151.21722502649 * t);
-        X0 += 0.00000000003 * Math.cos(1.61229350276 + 29050.7837433492 * t);
-        X0 += 0.00000000003 * Math.cos(4.05133152845 + 23125.0225397992 * t);
-        X0 += 0.00000000002 * Math.cos(3.42071639800 + 32973.05303150501 * t);
-        X0 += 0.00000000002 * Math.cos(1.57427839936 + 110395.84114767218 * t);
-        X0 += 0.00000000002 * Math.cos(0.64120353129 + 78484.12206716138 * t);
-        X0 += 0.00000000002 * Math.cos(0.13220595262 + 50373.43429242659 * t);
-        X0 += 0.00000000003 * Math.cos(2.58347515249 + 246113.79237247216 * t);
-        X0 += 0.00000000002 * Math.cos(0.46042924320 + 156534.53239644598 * t);
-        X0 += 0.00000000003 * Math.cos(6.01468501613 + 7768.3665566946 * t);
-        X0 += 0.00000000003 * Math.cos(4.30654322236 + 78115.63070029629 * t);
-        X0 += 0.00000000002 * Math.cos(0.28012264229 + 51760.25379253629 * t);
-        X0 += 0.00000000003 * Math.cos(3.05134920767 + 5815.11085963699 * t);
-        X0 += 0.00000000003 * Math.cos(0.35333837497 + 117.3198682202 * t);
-        X0 += 0.00000000002 * Math.cos(5.12603604161 + 30486.0778281482 * t);
-        X0 += 0.00000000002 * Math.cos(0.53758898960 + 21689.72845500019 * t);
-        X0 += 0.00000000003 * Math.cos(3.31169456914 + 78112.66175487968 * t);
-        X0 += 0.00000000002 * Math.cos(4.36572855791 + 1898.3512179396 * t);
-        X0 += 0.00000000003 * Math.cos(0.43348211086 + 134.109049585 * t);
-        X0 += 0.00000000002 * Math.cos(5.21277275820 + 235746.72801577636 * t);
-        X0 += 0.00000000002 * Math.cos(0.94406129311 + 26024.1672432708 * t);
-        X0 += 0.00000000002 * Math.cos(4.71956373811 + 26151.6390398776 * t);
-        X0 += 0.00000000003 * Math.cos(4.30724193035 + 42116.29954742219 * t);
-        X0 += 0.00000000002 * Math.cos(4.14095681447 + 216897.50046580215 * t);
-        X0 += 0.00000000003 * Math.cos(5.88207110188 + 25949.3856447035 * t);
-        X0 += 0.00000000003 * Math.cos(6.06473923651 + 26226.4206384449 * t);
-        X0 += 0.00000000002 * Math.cos(1.17081922558 + 249268.47945736776 * t);
-        X0 += 0.00000000003 * Math.cos(2.07303362426 + 65851.33653522459 * t);
-        X0 += 0.00000000003 * Math.cos(1.90326122005 + 26375.791001644 * t);
-        X0 += 0.00000000003 * Math.cos(3.76036381116 + 25800.0152815044 * t);
-        X0 += 0.00000000002 * Math.cos(3.55776839826 + 1593.0050485469 * t);
-        X0 += 0.00000000003 * Math.cos(3.79796015832 + 23581.2581773176 * t);
-        X0 += 0.00000000003 * Math.cos(1.86566487289 + 28594.5481058308 * t);
-        X0 += 0.00000000002 * Math.cos(3.33500745482 + 4525.655177259 * t);
-        X0 += 0.00000000002 * Math.cos(5.99627564723 + 247223.17092456557 * t);
-        X0 += 0.00000000002 * Math.cos(0.05141204952 + 97466.46267636596 * t);
-        X0 += 0.00000000002 * Math.cos(2.24548271996 + 425.908776514 * t);
-        X0 += 0.00000000002 * Math.cos(0.41829675041 + 1279.794572628 * t);
-        X0 += 0.00000000003 * Math.cos(4.22958660433 + 26051.25457864469 * t);
-        X0 += 0.00000000003 * Math.cos(1.43403842688 + 26124.55170450369 * t);
-        X0 += 0.00000000002 * Math.cos(5.48576882408 + 52367.25454925999 * t);
-        X0 += 0.00000000002 * Math.cos(4.14056597313 + 51949.9770147382 * t);
-        X0 += 0.00000000002 * Math.cos(2.55940503302 + 28133.2116743764 * t);
-        X0 += 0.00000000002 * Math.cos(3.10421999819 + 24042.59460877199 * t);
-        X0 += 0.00000000003 * Math.cos(2.17160326158 + 51753.14024553549 * t);
-        X0 += 0.00000000003 * Math.cos(6.15199422925 + 25632.99377504689 * t);
-        X0 += 0.00000000003 * Math.cos(5.79481610914 + 26542.81250810149 * t);
-        X0 += 0.00000000002 * Math.cos(3.97512757833 + 24999.2999849732 * t);
-        X0 += 0.00000000002 * Math.cos(1.68849745288 + 27176.50629817519 * t);
-        X0 += 0.00000000002 * Math.cos(1.16910623519 + 190495.41114435835 * t);
-        X0 += 0.00000000002 * Math.cos(5.12727920131 + 4398.17468657401 * t);
-        X0 += 0.00000000002 * Math.cos(2.91202347140 + 27143.35291850029 * t);
-        X0 += 0.00000000002 * Math.cos(3.03690554065 + 25024.58905812189 * t);
-        X0 += 0.00000000002 * Math.cos(5.82171148629 + 195047.36464141717 * t);
-        X0 += 0.00000000002 * Math.cos(2.34212792422 + 2854.6403739102 * t);
-        X0 += 0.00000000002 * Math.cos(1.51917223670 + 20618.0193585336 * t);
-        X0 += 0.00000000002 * Math.cos(4.14445279451 + 31557.78692461479 * t);
-        X0 += 0.00000000002 * Math.cos(1.98831285254 + 51952.94596015479 * t);
-        X0 += 0.00000000002 * Math.cos(6.21843289934 + 41520.8540663828 * t);
-        X0 += 0.00000000002 * Math.cos(1.57183044674 + 52249.10340900739 * t);
-        X0 += 0.00000000002 * Math.cos(3.38651380345 + 126067.63934109679 * t);
-        X0 += 0.00000000002 * Math.cos(4.71436622522 + 52202.1046029482 * t);
-        X0 += 0.00000000002 * Math.cos(5.83862446410 + 4601.950118963 * t);
-        X0 += 0.00000000002 * Math.cos(3.67162403222 + 330.6189636582 * t);
-        X0 += 0.00000000002 * Math.cos(1.34218693696 + 138633.79104107959 * t);
-        X0 += 0.00000000002 * Math.cos(4.92926606199 + 231348.55332920236 * t);
-        X0 += 0.00000000002 * Math.cos(2.49109566786 + 52822.81711646319 * t);
-        X0 += 0.00000000002 * Math.cos(3.63217289611 + 1535.9767429694 * t);
-        X0 += 0.00000000002 * Math.cos(4.71304833568 + 232457.93188129576 * t);
-        X0 += 0.00000000002 * Math.cos(0.79025165001 + 24705.70520908959 * t);
-        X0 += 0.00000000002 * Math.cos(4.87337338120 + 27470.1010740588 * t);
-        X0 += 0.00000000002 * Math.cos(1.33512594210 + 2655.5683724738 * t);
-        X0 += 0.00000000002 * Math.cos(0.12163545664 + 1603.2999892854 * t);
-        X0 += 0.00000000002 * Math.cos(5.71504799272 + 30459.7795083484 * t);
-        X0 += 0.00000000002 * Math.cos(6.14999504197 + 1353.7487450168 * t);
-        X0 += 0.00000000002 * Math.cos(4.19897532608 + 32838.94398192 * t);
-        X0 += 0.00000000002 * Math.cos(0.13374340654 + 14297.2740529154 * t);
-        X0 += 0.00000000002 * Math.cos(5.52988162467 + 37878.532230233 * t);
-        X0 += 0.00000000002 * Math.cos(6.20542886765 + 104501.17576343138 * t);
-        X0 += 0.00000000002 * Math.cos(2.15596610967 + 2544.6726368924 * t);
-        X0 += 0.00000000002 * Math.cos(1.06395351693 + 44131.28121921999 * t);
-        X0 += 0.00000000002 * Math.cos(2.13013210662 + 77039.89158394396 * t);
-        X0 += 0.00000000002 * Math.cos(1.15844515063 + 4578.2518168586 * t);
-        X0 += 0.00000000002 * Math.cos(3.63958668308 + 51546.95469709829 * t);
-        X0 += 0.00000000002 * Math.cos(3.63738028447 + 164407.50800278416 * t);
-        X0 += 0.00000000002 * Math.cos(5.42696145538 + 7392.4544020848 * t);
-        X0 += 0.00000000002 * Math.cos(6.25775046727 + 31107.8216289874 * t);
-        X0 += 0.00000000002 * Math.cos(5.68905987112 + 21067.98465416099 * t);
-        X0 += 0.00000000002 * Math.cos(2.91756593205 + 113455.51956041438 * t);
-        X0 += 0.00000000002 * Math.cos(1.98570847468 + 27299.2442119332 * t);
-        X0 += 0.00000000002 * Math.cos(3.67791655653 + 24876.5620712152 * t);
-        X0 += 0.00000000002 * Math.cos(5.74298703182 + 105418.10804348679 * t);
-        X0 += 0.00000000002 * Math.cos(2.69099617398 + 49534.4650046762 * t);
-        X0 += 0.00000000002 * Math.cos(1.80708255079 + 24957.7491939884 * t);
-        X0 += 0.00000000002 * Math.cos(3.85654248042 + 27218.05708916 * t);
-        X0 += 0.00000000002 * Math.cos(3.11677200697 + 27257.4913929828 * t);
-        X0 += 0.00000000002 * Math.cos(3.49399734860 + 40738.70289615879 * t);
-        X0 += 0.00000000002 * Math.cos(0.21234042745 + 309.2783226558 * t);
-        X0 += 0.00000000002 * Math.cos(2.33781787949 + 1155.361157407 * t);
-        X0 += 0.00000000002 * Math.cos(3.03248338331 + 102239.96225291918 * t);
-        X0 += 0.00000000002 * Math.cos(1.65828575265 + 197092.67317421938 * t);
-        X0 += 0.00000000002 * Math.cos(5.56610117919 + 20235.1228263104 * t);
-        X0 += 0.00000000002 * Math.cos(0.09752385202 + 31940.68345683799 * t);
-        X0 += 0.00000000002 * Math.cos(5.28799958774 + 225687.22128005016 * t);
-        X0 += 0.00000000002 * Math.cos(0.34521072462 + 1585.1407420207 * t);
-        X0 += 0.00000000002 * Math.cos(0.89847733804 + 130432.88714897096 * t);
-        X0 += 0.00000000002 * Math.cos(5.35295047368 + 79955.87509422498 * t);
-        X0 += 0.00000000002 * Math.cos(0.15743392494 + 838.9692877504 * t);
-        X0 += 0.00000000002 * Math.cos(2.86349665303 + 171960.36977425378 * t);
-        X0 += 0.00000000002 * Math.cos(0.82971507937 + 51738.16239200849 * t);
-        X0 += 0.00000000002 * Math.cos(4.40886857181 + 27953.1345440918 * t);
-        X0 += 0.00000000002 * Math.cos(1.25475645940 + 24222.6717390566 * t);
-        X0 += 0.00000000002 * Math.cos(5.67142449888 + 299398.97720771392 * t);
-        X0 += 0.00000000002 * Math.cos(0.02963994293 + 28440.769295346 * t);
-        X0 += 0.00000000002 * Math.cos(5.63398508828 + 23735.03698780239 * t);
-        X0 += 0.00000000002 * Math.cos(4.94052786966 + 26948.213070327 * t);
-        X0 += 0.00000000002 * Math.cos(0.72309716155 + 25227.59321282139 * t);
-        X0 += 0.00000000002 * Math.cos(4.51386522935 + 164721.69418265378 * t);
-        X0 += 0.00000000002 * Math.cos(2.19543947073 + 24918.31489016559 * t);
-        X0 += 0.00000000002 * Math.cos(2.12858110666 + 25888.8311401378 * t);
-        X0 += 0.00000000002 * Math.cos(3.53504392455 + 26286.97514301059 * t);
-        X0 += 0.00000000002 * Math.cos(5.05414655112 + 4268.0941781936 * t);
-        X0 += 0.00000000002 * Math.cos(5.71672028658 + 80432.46990700519 * t);
-        X0 += 0.00000000002 * Math.cos(2.91629438354 + 13989.7164319458 * t);
-        X0 += 0.00000000002 * Math.cos(2.74733064767 + 38186.0898512026 * t);
-        X0 += 0.00000000002 * Math.cos(2.55314053643 + 124663.74437003357 * t);
-        X0 += 0.00000000002 * Math.cos(3.27370866937 + 525.7588118315 * t);
-        X0 += 0.00000000002 * Math.cos(4.35111571758 + 3776.4308857348 * t);
-        X0 += 0.00000000002 * Math.cos(2.93541110992 + 2045.3085328022 * t);
-        X0 += 0.00000000002 * Math.cos(2.81103866959 + 221135.26778299136 * t);
-        X0 += 0.00000000002 * Math.cos(0.79461762449 + 76064.62208143558 * t);
-        X0 += 0.00000000002 * Math.cos(2.53232253566 + 150751.64751160776 * t);
-        X0 += 0.00000000002 * Math.cos(1.47457311730 + 30831.3049047446 * t);
-        X0 += 0.00000000002 * Math.cos(4.18905191392 + 21344.50137840379 * t);
-        X0 += 0.00000000002 * Math.cos(2.92553614920 + 105403.88094948517 * t);
-        X0 += 0.00000000002 * Math.cos(5.98978548406 + 19336.86230122839 * t);
-        X0 += 0.00000000001 * Math.cos(3.52879720086 + 66826.60603773296 * t);
-        X0 += 0.00000000001 * Math.cos(1.77634435436 + 93696.66034953119 * t);
-        X0 += 0.00000000001 * Math.cos(0.57809610749 + 24919.0043045276 * t);
-        X0 += 0.00000000001 * Math.cos(5.08552892372 + 27256.8019786208 * t);
-        X0 += 0.00000000002 * Math.cos(6.08826344175 + 7830.0925314348 * t);
-        X0 += 0.00000000001 * Math.cos(4.22613812778 + 959.1228599576 * t);
-        X0 += 0.00000000002 * Math.cos(5.23844394745 + 8482.1631932784 * t);
-        X0 += 0.00000000002 * Math.cos(0.42518108376 + 43693.64308986999 * t);
-        X0 += 0.00000000002 * Math.cos(2.62167846998 + 9591.5417453718 * t);
-        X0 += 0.00000000001 * Math.cos(4.92214692877 + 52499.31169980579 * t);
-        X0 += 0.00000000001 * Math.cos(0.45067029057 + 26010.1525975903 * t);
-        X0 += 0.00000000001 * Math.cos(1.49974892148 + 190809.59732422797 * t);
-        X0 += 0.00000000002 * Math.cos(1.28849937541 + 87253.17713015496 * t);
-        X0 += 0.00000000002 * Math.cos(5.49174220323 + 21516.2798836156 * t);
-        X0 += 0.00000000002 * Math.cos(0.17188282798 + 30659.52639953279 * t);
-        X0 += 0.00000000002 * Math.cos(4.10872174479 + 2214.7430875962 * t);
-        X0 += 0.00000000001 * Math.cos(5.68799206535 + 233202.05537888398 * t);
-        X0 += 0.00000000002 * Math.cos(0.33446329498 + 28839.45074126579 * t);
-        X0 += 0.00000000002 * Math.cos(3.48052508137 + 14650.79975458459 * t);
-        X0 += 0.00000000001 * Math.cos(4.64660194247 + 184526.52147423658 * t);
-        X0 += 0.00000000002 * Math.cos(1.56059892812 + 129971.55071751658 * t);
-        X0 += 0.00000000002 * Math.cos(5.50101176990 + 102225.73515891758 * t);
-        X0 += 0.00000000001 * Math.cos(2.62468643294 + 50807.14603030339 * t);
-        X0 += 0.00000000002 * Math.cos(1.90253736481 + 307.5576209696 * t);
-        X0 += 0.00000000001 * Math.cos(0.09710299820 + 5039.588248313 * t);
-        X0 += 0.00000000002 * Math.cos(0.17683937064 + 23549.6546373206 * t);
-        X0 += 0.00000000002 * Math.cos(5.06371993416 + 51472.17309853099 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 792 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.00318848034;
-        X1 += 0.00105289019 * Math.cos(5.91600475006 + 52175.8062831484 * t);
-        X1 += 0.00032316001 * Math.cos(2.68247273347 + 78263.70942472259 * t);
-        X1 += 0.00011992889 * Math.cos(5.81575112963 + 26087.9031415742 * t);
-        X1 += 0.00008783200 * Math.cos(5.73285747425 + 104351.61256629678 * t);
-        X1 += 0.00002329042 * Math.cos(2.50023793407 + 130439.51570787099 * t);
-        X1 += 0.00000614473 * Math.cos(5.55087602844 + 156527.41884944518 * t);
-        X1 += 0.00000162192 * Math.cos(2.31836529248 + 182615.32199101939 * t);
-        X1 += 0.00000069028 * Math.cos(2.91494938058 + 24978.5245894808 * t);
-        X1 += 0.00000062918 * Math.cos(2.73196853262 + 27197.2816936676 * t);
-        X1 += 0.00000042904 * Math.cos(5.36906063918 + 208703.22513259358 * t);
-        X1 += 0.00000017519 * Math.cos(5.96830863185 + 51066.427731055 * t);
-        X1 += 0.00000013252 * Math.cos(5.78388474441 + 53285.1848352418 * t);
-        X1 += 0.00000011874 * Math.cos(0.17869376191 + 1109.3785520934 * t);
-        X1 += 0.00000012470 * Math.cos(1.40668283978 + 1059.3819301892 * t);
-        X1 += 0.00000011372 * Math.cos(0.34951033396 + 20426.571092422 * t);
-        X1 += 0.00000011379 * Math.cos(2.13659786081 + 234791.12827416777 * t);
-        X1 += 0.00000008364 * Math.cos(5.31326841022 + 31749.2351907264 * t);
-        X1 += 0.00000006296 * Math.cos(5.47576447612 + 4551.9534970588 * t);
-        X1 += 0.00000004830 * Math.cos(0.25724123783 + 21535.9496445154 * t);
-        X1 += 0.00000004843 * Math.cos(2.73719284227 + 77154.33087262919 * t);
-        X1 += 0.00000004247 * Math.cos(3.39407863893 + 46514.4742339962 * t);
-        X1 += 0.00000004379 * Math.cos(5.09788247126 + 25132.3033999656 * t);
-        X1 += 0.00000003919 * Math.cos(2.37947659591 + 1589.0728952838 * t);
-        X1 += 0.00000004008 * Math.cos(4.41606139947 + 27147.28507176339 * t);
-        X1 += 0.00000003755 * Math.cos(4.17884091449 + 14765.2390432698 * t);
-        X1 += 0.00000004311 * Math.cos(4.26366834787 + 51116.4243529592 * t);
-        X1 += 0.00000003833 * Math.cos(0.53521442894 + 27043.5028831828 * t);
-        X1 += 0.00000003147 * Math.cos(1.09831959010 + 26617.5941066688 * t);
-        X1 += 0.00000003134 * Math.cos(4.68201320654 + 25558.2121764796 * t);
-        X1 += 0.00000003026 * Math.cos(5.18732430310 + 260879.03141574195 * t);
-        X1 += 0.00000002892 * Math.cos(5.42640574300 + 26107.57290247399 * t);
-        X1 += 0.00000002888 * Math.cos(0.22490912553 + 26068.2333806744 * t);
-        X1 += 0.00000002372 * Math.cos(2.07173805606 + 26084.0218062162 * t);
-        X1 += 0.00000002367 * Math.cos(3.57959596454 + 26091.7844769322 * t);
-        X1 += 0.00000002060 * Math.cos(1.47444774290 + 37410.5672398786 * t);
-        X1 += 0.00000001995 * Math.cos(5.43702405397 + 30639.856638633 * t);
-        X1 += 0.00000001993 * Math.cos(2.49283396541 + 79373.08797681599 * t);
-        X1 += 0.00000001882 * Math.cos(0.21679831472 + 47623.8527860896 * t);
-        X1 += 0.00000001581 * Math.cos(1.69266319262 + 9103.9069941176 * t);
-        X1 += 0.00000001582 * Math.cos(4.31392718266 + 955.5997416086 * t);
-        X1 += 0.00000001500 * Math.cos(0.43230658391 + 19317.1925403286 * t);
-        X1 += 0.00000001393 * Math.cos(0.16139897514 + 72602.37737557039 * t);
-        X1 += 0.00000001444 * Math.cos(4.90545517336 + 529.6909650946 * t);
-        X1 += 0.00000001356 * Math.cos(3.28177198592 + 50586.73338786459 * t);
-        X1 += 0.00000001486 * Math.cos(3.77636138698 + 12566.1516999828 * t);
-        X1 += 0.00000001421 * Math.cos(2.04410197951 + 426.598190876 * t);
-        X1 += 0.00000001205 * Math.cos(3.93561468963 + 52705.49724824299 * t);
-        X1 += 0.00000001291 * Math.cos(2.48193614053 + 26095.016688575 * t);
-        X1 += 0.00000001468 * Math.cos(2.98912712521 + 23869.1460373874 * t);
-        X1 += 0.00000001247 * Math.cos(3.22538051848 + 26080.78959457339 * t);
-        X1 += 0.00000001170 * Math.cos(5.49212997481 + 3442.5749449654 * t);
-        X1 += 0.00000001101 * Math.cos(1.21730591912 + 53235.18821333759 * t);
-        X1 += 0.00000001372 * Math.cos(5.78877124476 + 103242.23401420339 * t);
-        X1 += 0.00000001238 * Math.cos(1.82183266298 + 51220.20654153979 * t);
-        X1 += 0.00000001188 * Math.cos(2.63716562694 + 28306.66024576099 * t);
-        X1 += 0.00000000966 * Math.cos(3.56558363028 + 53131.406024757 * t);
-        X1 += 0.00000000857 * Math.cos(0.94331413205 + 40853.142184844 * t);
-        X1 += 0.00000000853 * Math.cos(5.33085598917 + 27676.976036858 * t);
-        X1 += 0.00000000828 * Math.cos(1.04707260283 + 25874.6040461362 * t);
-        X1 += 0.00000000923 * Math.cos(0.74286443513 + 639.897286314 * t);
-        X1 += 0.00000000891 * Math.cos(5.15325597213 + 32858.61374281979 * t);
-        X1 += 0.00000000806 * Math.cos(1.95470061860 + 286966.93455731616 * t);
-        X1 += 0.00000000797 * Math.cos(4.63253542288 + 26301.2022370122 * t);
-        X1 += 0.00000000867 * Math.cos(2.13196527993 + 83925.04147387479 * t);
-        X1 += 0.00000000981 * Math.cos(0.13945164140 + 22645.32819660879 * t);
-        X1 += 0.00000000732 * Math.cos(2.19417873413 + 56727.7597802072 * t);
-        X1 += 0.00000000808 * Math.cos(4.76289394654 + 36301.18868778519 * t);
-        X1 += 0.00000000720 * Math.cos(1.49820361938 + 18849.2275499742 * t);
-        X1 += 0.00000000703 * Math.cos(2.68691048153 + 6770.7106012456 * t);
-        X1 += 0.00000000772 * Math.cos(5.23111667516 + 11322.6640983044 * t);
-        X1 += 0.00000000865 * Math.cos(6.19400537490 + 7.1135470008 * t);
-        X1 += 0.00000000765 * Math.cos(1.88382728885 + 39609.6545831656 * t);
-        X1 += 0.00000000662 * Math.cos(3.27821203278 + 52156.1365222486 * t);
-        X1 += 0.00000000673 * Math.cos(4.81376442012 + 1052.2683831884 * t);
-        X1 += 0.00000000619 * Math.cos(3.92327916834 + 43071.8992890308 * t);
-        X1 += 0.00000000666 * Math.cos(0.85409428955 + 15874.6175953632 * t);
-        X1 += 0.00000000607 * Math.cos(2.02898715788 + 5661.3320491522 * t);
-        X1 += 0.00000000806 * Math.cos(4.33567606005 + 1066.49547719 * t);
-        X1 += 0.00000000627 * Math.cos(0.70425946008 + 51646.11531805379 * t);
-        X1 += 0.00000000554 * Math.cos(3.01415103037 + 2118.7638603784 * t);
-        X1 += 0.00000000533 * Math.cos(0.35442356295 + 52179.6876185064 * t);
-        X1 += 0.00000000621 * Math.cos(1.43632380898 + 25028.521211385 * t);
-        X1 += 0.00000000651 * Math.cos(5.48424947861 + 29530.4780865396 * t);
-        X1 += 0.00000000525 * Math.cos(4.93316232438 + 26514.5013324502 * t);
-        X1 += 0.00000000500 * Math.cos(0.52252923934 + 38654.05484155699 * t);
-        X1 += 0.00000000507 * Math.cos(4.51932253005 + 63498.47038145279 * t);
-        X1 += 0.00000000467 * Math.cos(5.15486312196 + 110012.94461544899 * t);
-        X1 += 0.00000000519 * Math.cos(2.18877626983 + 52195.47604404819 * t);
-        X1 += 0.00000000439 * Math.cos(3.21217330239 + 98690.28051714458 * t);
-        X1 += 0.00000000436 * Math.cos(4.11931609127 + 33326.5787331742 * t);
-        X1 += 0.00000000486 * Math.cos(3.63985026707 + 51749.20809227239 * t);
-        X1 += 0.00000000527 * Math.cos(0.13511199028 + 2218.7571041868 * t);
-        X1 += 0.00000000419 * Math.cos(1.64150782899 + 7238.67559160 * t);
-        X1 += 0.00000000433 * Math.cos(5.12287491235 + 52171.9249477904 * t);
-        X1 += 0.00000000386 * Math.cos(2.03457265559 + 58946.51688439399 * t);
-        X1 += 0.00000000388 * Math.cos(0.61592624795 + 78793.40038981718 * t);
-        X1 += 0.00000000402 * Math.cos(6.00790488958 + 52168.69273614759 * t);
-        X1 += 0.00000000354 * Math.cos(1.51714429161 + 62389.09182935939 * t);
-        X1 += 0.00000000370 * Math.cos(0.98752045979 + 103292.23063610759 * t);
-        X1 += 0.00000000326 * Math.cos(4.29715521116 + 79323.09135491178 * t);
-        X1 += 0.00000000392 * Math.cos(2.55718962178 + 129330.13715577759 * t);
-        X1 += 0.00000000430 * Math.cos(2.49466005761 + 213.299095438 * t);
-        X1 += 0.00000000382 * Math.cos(5.51179087871 + 52182.9198301492 * t);
-        X1 += 0.00000000401 * Math.cos(5.75972783493 + 54394.56338733519 * t);
-        X1 += 0.00000000317 * Math.cos(6.10262679977 + 76674.63652943878 * t);
-        X1 += 0.00000000322 * Math.cos(6.04526148570 + 49957.0491789616 * t);
-        X1 += 0.00000000325 * Math.cos(4.04813766509 + 68050.42387851159 * t);
-        X1 += 0.00000000312 * Math.cos(4.91137892283 + 51535.90899683439 * t);
-        X1 += 0.00000000366 * Math.cos(4.84960838633 + 77308.10968311399 * t);
-        X1 += 0.00000000315 * Math.cos(3.48940938594 + 45405.0956819028 * t);
-        X1 += 0.00000000318 * Math.cos(4.23654189229 + 13655.8604911764 * t);
-        X1 += 0.00000000259 * Math.cos(1.48788758809 + 52389.1053785864 * t);
-        X1 += 0.00000000230 * Math.cos(5.23970398210 + 82815.66292178139 * t);
-        X1 += 0.00000000230 * Math.cos(0.83436604790 + 51123.53789995999 * t);
-        X1 += 0.00000000235 * Math.cos(0.14479942195 + 48733.23133818299 * t);
-        X1 += 0.00000000222 * Math.cos(3.99294043990 + 66941.04532641819 * t);
-        X1 += 0.00000000215 * Math.cos(5.00570874902 + 313054.83769889036 * t);
-        X1 += 0.00000000207 * Math.cos(0.32441801559 + 24498.8302462904 * t);
-        X1 += 0.00000000208 * Math.cos(1.13897731894 + 57837.1383323006 * t);
-        X1 += 0.00000000274 * Math.cos(1.31712695932 + 51109.31080595839 * t);
-        X1 += 0.00000000218 * Math.cos(3.35990718284 + 32370.9789915656 * t);
-        X1 += 0.00000000197 * Math.cos(2.05074719141 + 53764.8791784322 * t);
-        X1 += 0.00000000195 * Math.cos(0.73253707200 + 69159.80243060499 * t);
-        X1 += 0.00000000201 * Math.cos(4.02545532193 + 129380.13377768178 * t);
-        X1 += 0.00000000195 * Math.cos(2.67914149669 + 50057.04242277 * t);
-        X1 += 0.00000000200 * Math.cos(4.46579555836 + 44937.1306915484 * t);
-        X1 += 0.00000000197 * Math.cos(2.70214163195 + 10213.285546211 * t);
-        X1 += 0.00000000186 * Math.cos(1.91764312607 + 136100.84775702319 * t);
-        X1 += 0.00000000183 * Math.cos(2.29039964704 + 419.4846438752 * t);
-        X1 += 0.00000000179 * Math.cos(5.25460376556 + 105460.99111839019 * t);
-        X1 += 0.00000000174 * Math.cos(3.75890575398 + 51962.5071877104 * t);
-        X1 += 0.00000000170 * Math.cos(0.05120008168 + 78244.0396638228 * t);
-        X1 += 0.00000000229 * Math.cos(1.74472216574 + 433.7117378768 * t);
-        X1 += 0.00000000172 * Math.cos(0.78909849325 + 94138.32702008578 * t);
-        X1 += 0.00000000157 * Math.cos(3.59078806709 + 64741.95798313119 * t);
-        X1 += 0.00000000156 * Math.cos(0.89517325452 + 59414.4818747484 * t);
-        X1 += 0.00000000162 * Math.cos(2.48823301223 + 16983.9961474566 * t);
-        X1 += 0.00000000159 * Math.cos(6.16937915488 + 853.196381752 * t);
-        X1 += 0.00000000155 * Math.cos(4.69757523405 + 35191.8101356918 * t);
-        X1 += 0.00000000147 * Math.cos(1.70693555948 + 52602.4044740244 * t);
-        X1 += 0.00000000154 * Math.cos(2.29441335016 + 19804.8272915828 * t);
-        X1 += 0.00000000181 * Math.cos(2.25156652773 + 55618.3812281138 * t);
-        X1 += 0.00000000155 * Math.cos(3.39294110953 + 99799.65906923798 * t);
-        X1 += 0.00000000138 * Math.cos(6.20163548170 + 25973.46385288896 * t);
-        X1 += 0.00000000138 * Math.cos(5.74171028268 + 26202.34243025941 * t);
-        X1 += 0.00000000190 * Math.cos(3.87246923080 + 26727.8004278882 * t);
-        X1 += 0.00000000136 * Math.cos(0.07614870196 + 23754.70674870219 * t);
-        X1 += 0.00000000135 * Math.cos(3.41426499833 + 78267.59076008058 * t);
-        X1 += 0.00000000128 * Math.cos(4.56870410553 + 88476.99497093359 * t);
-        X1 += 0.00000000139 * Math.cos(1.25262181717 + 77734.01845962799 * t);
-        X1 += 0.00000000135 * Math.cos(6.26763497988 + 124778.18365871879 * t);
-        X1 += 0.00000000148 * Math.cos(1.14288127596 + 27154.3986187642 * t);
-        X1 += 0.00000000118 * Math.cos(5.25266695461 + 12432.0426503978 * t);
-        X1 += 0.00000000121 * Math.cos(3.61637465924 + 104881.30353139139 * t);
-        X1 += 0.00000000116 * Math.cos(4.75079129151 + 25934.1243310894 * t);
-        X1 += 0.00000000113 * Math.cos(0.89519838976 + 26241.681952059 * t);
-        X1 += 0.00000000110 * Math.cos(5.99510808456 + 28206.6670019526 * t);
-        X1 += 0.00000000145 * Math.cos(1.02699984744 + 25661.3049506982 * t);
-        X1 += 0.00000000108 * Math.cos(1.68420561967 + 27140.17152476259 * t);
-        X1 += 0.00000000115 * Math.cos(4.02826839099 + 103821.92160120218 * t);
-        X1 += 0.00000000106 * Math.cos(5.56501238566 + 28421.0995344462 * t);
-        X1 += 0.00000000113 * Math.cos(5.61187119686 + 155418.04029735178 * t);
-        X1 += 0.00000000142 * Math.cos(4.93457693777 + 1596.1864422846 * t);
-        X1 += 0.00000000113 * Math.cos(2.46071266285 + 5327.4761083828 * t);
-        X1 += 0.00000000100 * Math.cos(3.51095185925 + 25619.9381512198 * t);
-        X1 += 0.00000000130 * Math.cos(1.24930068630 + 38519.945791972 * t);
-        X1 += 0.00000000101 * Math.cos(5.56349300645 + 2333.196392872 * t);
-        X1 += 0.00000000096 * Math.cos(2.14218398324 + 26555.8681319286 * t);
-        X1 += 0.00000000117 * Math.cos(1.76096469784 + 7994.5284420242 * t);
-        X1 += 0.00000000094 * Math.cos(3.27399866756 + 74821.13447975718 * t);
-        X1 += 0.00000000109 * Math.cos(1.60677184759 + 103396.01282468818 * t);
-        X1 += 0.00000000097 * Math.cos(1.08688412870 + 105410.99449648599 * t);
-        X1 += 0.00000000094 * Math.cos(2.74336450397 + 78256.59587772179 * t);
-        X1 += 0.00000000110 * Math.cos(6.08725694137 + 79219.30916633119 * t);
-        X1 += 0.00000000095 * Math.cos(0.09924693440 + 58458.88213313979 * t);
-        X1 += 0.00000000094 * Math.cos(4.41966418167 + 1581.959348283 * t);
-        X1 += 0.00000000103 * Math.cos(4.94647459474 + 91785.46086631398 * t);
-        X1 += 0.00000000088 * Math.cos(2.61301107864 + 73711.75592766379 * t);
-        X1 += 0.00000000089 * Math.cos(0.10217527089 + 125887.56221081219 * t);
-        X1 += 0.00000000082 * Math.cos(0.79472961749 + 155468.03691925599 * t);
-        X1 += 0.00000000082 * Math.cos(1.77469219848 + 77623.81213840858 * t);
-        X1 += 0.00000000097 * Math.cos(5.37398198079 + 71980.63357473118 * t);
-        X1 += 0.00000000081 * Math.cos(3.12863861827 + 41962.5207369374 * t);
-        X1 += 0.00000000081 * Math.cos(2.81711911396 + 76044.9523205358 * t);
-        X1 += 0.00000000080 * Math.cos(5.04229374313 + 26137.8997634784 * t);
-        X1 += 0.00000000080 * Math.cos(0.61667373644 + 26037.90651966999 * t);
-        X1 += 0.00000000104 * Math.cos(2.27911229916 + 78270.82297172339 * t);
-        X1 += 0.00000000080 * Math.cos(1.04658076616 + 536.8045120954 * t);
-        X1 += 0.00000000103 * Math.cos(5.23326876495 + 78283.37918562238 * t);
-        X1 += 0.00000000088 * Math.cos(1.89491499121 + 78259.82808936459 * t);
-        X1 += 0.00000000076 * Math.cos(4.59002761471 + 64607.84893354619 * t);
-        X1 += 0.00000000077 * Math.cos(0.52151658040 + 18207.81398823521 * t);
-        X1 += 0.00000000083 * Math.cos(3.91650291052 + 77211.44104153418 * t);
-        X1 += 0.00000000082 * Math.cos(4.38336427974 + 77197.21394753258 * t);
-        X1 += 0.00000000079 * Math.cos(2.47113265383 + 80482.46652890938 * t);
-        X1 += 0.00000000068 * Math.cos(5.02161386487 + 85034.42002596818 * t);
-        X1 += 0.00000000067 * Math.cos(3.83221093171 + 120226.23016165999 * t);
-        X1 += 0.00000000065 * Math.cos(4.96292091927 + 162188.75089859738 * t);
-        X1 += 0.00000000075 * Math.cos(4.93090584764 + 149.5631971346 * t);
-        X1 += 0.00000000064 * Math.cos(2.43966713771 + 102762.53967101299 * t);
-        X1 += 0.00000000071 * Math.cos(2.00840081014 + 108903.56606335558 * t);
-        X1 += 0.00000000062 * Math.cos(3.28305785024 + 51756.3216392732 * t);
-        X1 += 0.00000000078 * Math.cos(3.78933172192 + 25565.3257234804 * t);
-        X1 += 0.00000000078 * Math.cos(0.26259075737 + 71492.99882347698 * t);
-        X1 += 0.00000000076 * Math.cos(4.60309339869 + 78477.00852016058 * t);
-        X1 += 0.00000000063 * Math.cos(0.77267148826 + 93028.94846799239 * t);
-        X1 += 0.00000000076 * Math.cos(3.91621214261 + 51742.09454527159 * t);
-        X1 += 0.00000000056 * Math.cos(3.59213518955 + 2648.454825473 * t);
-        X1 += 0.00000000057 * Math.cos(5.54251181480 + 76144.94556434419 * t);
-        X1 += 0.00000000057 * Math.cos(1.77596246202 + 339142.74084046457 * t);
-        X1 += 0.00000000057 * Math.cos(1.70642283566 + 117873.36400788819 * t);
-        X1 += 0.00000000064 * Math.cos(5.39890155177 + 13521.7514415914 * t);
-        X1 += 0.00000000059 * Math.cos(1.21407442533 + 71025.03383312259 * t);
-        X1 += 0.00000000052 * Math.cos(0.56412394027 + 10021.8372800994 * t);
-        X1 += 0.00000000054 * Math.cos(5.76743595117 + 51322.60990139639 * t);
-        X1 += 0.00000000053 * Math.cos(5.07040569914 + 79852.78232000639 * t);
-        X1 += 0.00000000058 * Math.cos(1.30087149719 + 632.7837393132 * t);
-        X1 += 0.00000000053 * Math.cos(0.21733504041 + 78050.41032928458 * t);
-        X1 += 0.00000000052 * Math.cos(2.15957506124 + 98068.53671630539 * t);
-        X1 += 0.00000000051 * Math.cos(6.00939227801 + 131548.89425996438 * t);
-        X1 += 0.00000000049 * Math.cos(0.37484483697 + 90829.86112470538 * t);
-        X1 += 0.00000000066 * Math.cos(1.83477065457 + 26610.48055966799 * t);
-        X1 += 0.00000000050 * Math.cos(5.30296789488 + 81706.28436968799 * t);
-        X1 += 0.00000000051 * Math.cos(0.72899300866 + 129909.82474277639 * t);
-        X1 += 0.00000000051 * Math.cos(0.86113541342 + 647.0108333148 * t);
-        X1 += 0.00000000056 * Math.cos(3.55772283134 + 26624.70765366959 * t);
-        X1 += 0.00000000045 * Math.cos(3.09839778780 + 104331.94280539699 * t);
-        X1 += 0.00000000043 * Math.cos(4.78106693432 + 78690.30761559859 * t);
-        X1 += 0.00000000042 * Math.cos(1.33862549536 + 114564.89811250778 * t);
-        X1 += 0.00000000040 * Math.cos(5.84877872776 + 23969.1392811958 * t);
-        X1 += 0.00000000043 * Math.cos(0.49578719152 + 103925.01437542078 * t);
-        X1 += 0.00000000052 * Math.cos(1.00605916556 + 39743.7636327506 * t);
-        X1 += 0.00000000045 * Math.cos(4.58309301985 + 76.2660712756 * t);
-        X1 += 0.00000000038 * Math.cos(0.12510850308 + 77204.32749453338 * t);
-        X1 += 0.00000000038 * Math.cos(4.96138824900 + 33967.99229491319 * t);
-        X1 += 0.00000000037 * Math.cos(3.14446623632 + 151975.46535238638 * t);
-        X1 += 0.00000000049 * Math.cos(0.75521435692 + 50579.61984086379 * t);
-        X1 += 0.00000000037 * Math.cos(3.08060535588 + 22759.76748529401 * t);
-        X1 += 0.00000000049 * Math.cos(2.25743098712 + 25551.09862947879 * t);
-        X1 += 0.00000000043 * Math.cos(4.80730811274 + 26521.614879451 * t);
-        X1 += 0.00000000035 * Math.cos(3.18489263300 + 84546.78527471398 * t);
-        X1 += 0.00000000040 * Math.cos(0.70008569909 + 52815.7035694624 * t);
-        X1 += 0.00000000034 * Math.cos(0.93646404165 + 26190.99591579279 * t);
-        X1 += 0.00000000044 * Math.cos(2.62980232477 + 7880.08915333899 * t);
-        X1 += 0.00000000041 * Math.cos(3.03548824144 + 150866.08680029298 * t);
-        X1 += 0.00000000040 * Math.cos(5.00668302258 + 26294.08869001139 * t);
-        X1 += 0.00000000034 * Math.cos(0.85062194570 + 89586.37352302698 * t);
-        X1 += 0.00000000035 * Math.cos(2.53628638096 + 157636.79740153858 * t);
-        X1 += 0.00000000041 * Math.cos(0.57259526223 + 25881.717593137 * t);
-        X1 += 0.00000000041 * Math.cos(4.17638990278 + 52329.58509363319 * t);
-        X1 += 0.00000000042 * Math.cos(6.01467005956 + 26507.38778544939 * t);
-        X1 += 0.00000000033 * Math.cos(4.72754895093 + 25984.8103673556 * t);
-        X1 += 0.00000000036 * Math.cos(3.68841887913 + 44181.27784112419 * t);
-        X1 += 0.00000000033 * Math.cos(1.27875804610 + 50593.84693486539 * t);
-        X1 += 0.00000000043 * Math.cos(6.09764090047 + 6681.2248533996 * t);
-        X1 += 0.00000000036 * Math.cos(0.34367134726 + 130969.20667296558 * t);
-        X1 += 0.00000000036 * Math.cos(0.18284823248 + 104355.49390165479 * t);
-        X1 += 0.00000000032 * Math.cos(2.37243073610 + 181505.94343892598 * t);
-        X1 += 0.00000000036 * Math.cos(3.11876877578 + 46848.3301747656 * t);
-        X1 += 0.00000000032 * Math.cos(1.30247204488 + 105307.21230790539 * t);
-        X1 += 0.00000000032 * Math.cos(4.64178119595 + 129483.91596626239 * t);
-        X1 += 0.00000000030 * Math.cos(5.20322865236 + 52643.7712735028 * t);
-        X1 += 0.00000000031 * Math.cos(2.51185507502 + 52290.24557183361 * t);
-        X1 += 0.00000000029 * Math.cos(5.24573487183 + 25668.418497699 * t);
-        X1 += 0.00000000028 * Math.cos(3.83067185571 + 181555.94006083018 * t);
-        X1 += 0.00000000031 * Math.cos(4.73782198518 + 51639.00177105299 * t);
-        X1 += 0.00000000029 * Math.cos(2.51843531665 + 29416.03879785439 * t);
-        X1 += 0.00000000029 * Math.cos(4.21426623259 + 53242.3017603384 * t);
-        X1 += 0.00000000028 * Math.cos(3.64092818784 + 95247.70557217918 * t);
-        X1 += 0.00000000035 * Math.cos(4.81649322770 + 6283.0758499914 * t);
-        X1 += 0.00000000036 * Math.cos(2.18114421958 + 522.5774180938 * t);
-        X1 += 0.00000000026 * Math.cos(2.32663083381 + 54509.0026760204 * t);
-        X1 += 0.00000000026 * Math.cos(2.95753849706 + 52061.36699446317 * t);
-        X1 += 0.00000000025 * Math.cos(0.03848563033 + 956.2891559706 * t);
-        X1 += 0.00000000025 * Math.cos(5.13721031791 + 42153.969003049 * t);
-        X1 += 0.00000000030 * Math.cos(2.99039613509 + 26941.0995233262 * t);
-        X1 += 0.00000000025 * Math.cos(0.42860125930 + 29428.515568274 * t);
-        X1 += 0.00000000029 * Math.cos(4.14866394337 + 131498.89763806018 * t);
-        X1 += 0.00000000028 * Math.cos(5.32578029265 + 104358.72611329758 * t);
-        X1 += 0.00000000029 * Math.cos(1.60408389107 + 25448.00585526019 * t);
-        X1 += 0.00000000025 * Math.cos(1.67779796211 + 26237.46633870879 * t);
-        X1 += 0.00000000024 * Math.cos(5.28807279458 + 22747.2907148744 * t);
-        X1 += 0.00000000024 * Math.cos(2.71950429042 + 54294.57014352679 * t);
-        X1 += 0.00000000023 * Math.cos(0.58725165783 + 146314.13330323418 * t);
-        X1 += 0.00000000027 * Math.cos(4.52767940172 + 25021.4076643842 * t);
-        X1 += 0.00000000022 * Math.cos(4.74442146801 + 143961.26714946238 * t);
-        X1 += 0.00000000023 * Math.cos(3.78299370119 + 25035.6347583858 * t);
-        X1 += 0.00000000025 * Math.cos(0.72182905302 + 52026.2430860138 * t);
-        X1 += 0.00000000026 * Math.cos(1.72512030163 + 27684.0895838588 * t);
-        X1 += 0.00000000023 * Math.cos(1.73611078502 + 188276.65404017158 * t);
-        X1 += 0.00000000021 * Math.cos(5.86830807135 + 102132.85546210999 * t);
-        X1 += 0.00000000023 * Math.cos(1.39950717748 + 61279.713277266 * t);
-        X1 += 0.00000000022 * Math.cos(3.49214829498 + 130012.91751699499 * t);
-        X1 += 0.00000000021 * Math.cos(5.78709952320 + 104344.49901929598 * t);
-        X1 += 0.00000000022 * Math.cos(0.10565363711 + 77844.22478084739 * t);
-        X1 += 0.00000000021 * Math.cos(5.21078068231 + 124156.43985787958 * t);
-        X1 += 0.00000000021 * Math.cos(2.38516672571 + 85502.38501632259 * t);
-        X1 += 0.00000000027 * Math.cos(0.68051286566 + 103299.34418310839 * t);
-        X1 += 0.00000000021 * Math.cos(1.14211463317 + 103285.11708910679 * t);
-        X1 += 0.00000000020 * Math.cos(4.96664866905 + 103711.71527998279 * t);
-        X1 += 0.00000000021 * Math.cos(2.16986734764 + 49527.35145767539 * t);
-        X1 += 0.00000000026 * Math.cos(2.05285271079 + 60055.89543648739 * t);
-        X1 += 0.00000000023 * Math.cos(0.68702668183 + 77829.99768684579 * t);
-        X1 += 0.00000000020 * Math.cos(2.29347505450 + 1478.8665740644 * t);
-        X1 += 0.00000000019 * Math.cos(3.64972257327 + 52125.80966124419 * t);
-        X1 += 0.00000000022 * Math.cos(0.84681454741 + 70269.18098269838 * t);
-        X1 += 0.00000000019 * Math.cos(0.04587600812 + 3328.13565628019 * t);
-        X1 += 0.00000000022 * Math.cos(1.42374321926 + 104564.91166173479 * t);
-        X1 += 0.00000000026 * Math.cos(1.26272356256 + 13362.4497067992 * t);
-        X1 += 0.00000000025 * Math.cos(0.01235262119 + 24864.08530079559 * t);
-        X1 += 0.00000000019 * Math.cos(5.60700670343 + 106570.36967048359 * t);
-        X1 += 0.00000000025 * Math.cos(5.65750865200 + 27311.72098235281 * t);
-        X1 += 0.00000000018 * Math.cos(4.78075197963 + 53228.07466633679 * t);
-        X1 += 0.00000000017 * Math.cos(2.51531506964 + 1162.4747044078 * t);
-        X1 += 0.00000000020 * Math.cos(3.30348564295 + 97580.90196505119 * t);
-        X1 += 0.00000000021 * Math.cos(1.98272438830 + 104371.28232719658 * t);
-        X1 += 0.00000000017 * Math.cos(2.59293571203 + 77410.51304297059 * t);
-        X1 += 0.00000000020 * Math.cos(3.91482329597 + 131395.11544947959 * t);
-        X1 += 0.00000000017 * Math.cos(3.10260674166 + 104138.31347085879 * t);
-        X1 += 0.00000000021 * Math.cos(5.05260717886 + 134991.46920492979 * t);
-        X1 += 0.00000000016 * Math.cos(6.20867250288 + 100909.03762133139 * t);
-        X1 += 0.00000000017 * Math.cos(2.39497408205 + 18093.37469954999 * t);
-        X1 += 0.00000000016 * Math.cos(4.32698359511 + 12546.481939083 * t);
-        X1 += 0.00000000018 * Math.cos(4.91279767114 + 52698.38370124219 * t);
-        X1 += 0.00000000016 * Math.cos(0.84901493535 + 25867.49049913539 * t);
-        X1 += 0.00000000016 * Math.cos(5.55931175273 + 183724.70054311278 * t);
-        X1 += 0.00000000017 * Math.cos(1.54418014066 + 115674.27666460119 * t);
-        X1 += 0.00000000017 * Math.cos(4.81848703132 + 128850.44281258718 * t);
-        X1 += 0.00000000015 * Math.cos(2.38102656379 + 16066.0658614748 * t);
-        X1 += 0.00000000017 * Math.cos(4.80393132096 + 51528.79544983359 * t);
-        X1 += 0.00000000020 * Math.cos(6.13069123005 + 11610.5519583742 * t);
-        X1 += 0.00000000019 * Math.cos(3.74384920337 + 155997.72788435058 * t);
-        X1 += 0.00000000014 * Math.cos(3.58173383909 + 44295.7171298094 * t);
-        X1 += 0.00000000015 * Math.cos(2.07746651676 + 107794.18751126219 * t);
-        X1 += 0.00000000018 * Math.cos(4.53931120962 + 51543.0225438352 * t);
-        X1 += 0.00000000015 * Math.cos(4.93940053675 + 26308.315784013 * t);
-        X1 += 0.00000000015 * Math.cos(1.33651838433 + 26164.1692128498 * t);
-        X1 += 0.00000000015 * Math.cos(2.26943407259 + 102232.84870591838 * t);
-        X1 += 0.00000000018 * Math.cos(3.82088730679 + 119116.85160956658 * t);
-        X1 += 0.00000000018 * Math.cos(5.91863678140 + 45494.58142974879 * t);
-        X1 += 0.00000000015 * Math.cos(5.17830960776 + 26222.0121911592 * t);
-        X1 += 0.00000000014 * Math.cos(4.76550818683 + 2111.6503133776 * t);
-        X1 += 0.00000000015 * Math.cos(1.74258697688 + 52225.8029050526 * t);
-        X1 += 0.00000000015 * Math.cos(3.82786291889 + 76667.52298243798 * t);
-        X1 += 0.00000000014 * Math.cos(4.77147651749 + 27999.1026247914 * t);
-        X1 += 0.00000000018 * Math.cos(4.93958674569 + 104347.73123093879 * t);
-        X1 += 0.00000000014 * Math.cos(3.43030204306 + 116917.76426627958 * t);
-        X1 += 0.00000000015 * Math.cos(4.82510142643 + 365230.64398203876 * t);
-        X1 += 0.00000000013 * Math.cos(3.69040263930 + 323.5054166574 * t);
-        X1 += 0.00000000013 * Math.cos(0.92750711335 + 24176.703658357 * t);
-        X1 += 0.00000000014 * Math.cos(0.49576253379 + 25953.79409198919 * t);
-        X1 += 0.00000000013 * Math.cos(6.18203275911 + 178063.36849396059 * t);
-        X1 += 0.00000000017 * Math.cos(4.23443256776 + 97112.93697469679 * t);
-        X1 += 0.00000000013 * Math.cos(3.31644628485 + 220.4126424388 * t);
-        X1 += 0.00000000015 * Math.cos(0.24698669297 + 52712.61079524379 * t);
-        X1 += 0.00000000015 * Math.cos(1.05658470808 + 52099.5402118728 * t);
-        X1 += 0.00000000013 * Math.cos(4.30617411007 + 76681.75007643958 * t);
-        X1 += 0.00000000013 * Math.cos(5.74254354304 + 55503.94193942859 * t);
-        X1 += 0.00000000013 * Math.cos(4.49086187677 + 103.0927742186 * t);
-        X1 += 0.00000000013 * Math.cos(1.08207420360 + 1692.1656695024 * t);
-        X1 += 0.00000000015 * Math.cos(1.28342499223 + 27669.86248985719 * t);
-        X1 += 0.00000000014 * Math.cos(1.82228184088 + 105940.68546158058 * t);
-        X1 += 0.00000000012 * Math.cos(1.79845456663 + 111122.32316754239 * t);
-        X1 += 0.00000000013 * Math.cos(3.31209041530 + 14477.35118320 * t);
-        X1 += 0.00000000012 * Math.cos(1.57036398698 + 104778.21075717278 * t);
-        X1 += 0.00000000013 * Math.cos(4.39267521476 + 140652.80125408198 * t);
-        X1 += 0.00000000012 * Math.cos(1.33521638588 + 52072.71350892979 * t);
-        X1 += 0.00000000012 * Math.cos(4.66725197197 + 111590.28815789679 * t);
-        X1 += 0.00000000015 * Math.cos(5.49469453836 + 2125.8774073792 * t);
-        X1 += 0.00000000012 * Math.cos(6.21958146278 + 72936.23331633979 * t);
-        X1 += 0.00000000015 * Math.cos(1.55251538013 + 20760.4270331914 * t);
-        X1 += 0.00000000011 * Math.cos(2.98365933273 + 25977.69682035479 * t);
-        X1 += 0.00000000012 * Math.cos(6.24533055094 + 110634.68841628819 * t);
-        X1 += 0.00000000014 * Math.cos(1.03063178545 + 78417.48823520739 * t);
-        X1 += 0.00000000011 * Math.cos(3.57047418140 + 36109.7404216736 * t);
-        X1 += 0.00000000011 * Math.cos(2.67619239702 + 26198.1094627936 * t);
-        X1 += 0.00000000014 * Math.cos(5.29903467924 + 77837.11123384659 * t);
-        X1 += 0.00000000012 * Math.cos(5.21668700555 + 31415.379249957 * t);
-        X1 += 0.00000000011 * Math.cos(4.12038634021 + 51969.62073471119 * t);
-        X1 += 0.00000000012 * Math.cos(6.15491126193 + 130419.8459469712 * t);
-        X1 += 0.00000000014 * Math.cos(2.66253684701 + 32769.1279949738 * t);
-        X1 += 0.00000000010 * Math.cos(0.30174606733 + 28736.3579670472 * t);
-        X1 += 0.00000000010 * Math.cos(1.78614915805 + 68241.87214462319 * t);
-        X1 += 0.00000000012 * Math.cos(0.89596440765 + 224.3447957019 * t);
-        X1 += 0.00000000011 * Math.cos(3.62051737282 + 65697.55772473979 * t);
-        X1 += 0.00000000012 * Math.cos(4.51767669506 + 38813.3565763492 * t);
-        X1 += 0.00000000010 * Math.cos(1.51502620255 + 170049.17029103659 * t);
-        X1 += 0.00000000010 * Math.cos(0.65896029584 + 157483.01859105378 * t);
-        X1 += 0.00000000012 * Math.cos(1.50419920446 + 12725.453434775 * t);
-        X1 += 0.00000000010 * Math.cos(0.60086822741 + 207643.84320240439 * t);
-        X1 += 0.00000000012 * Math.cos(0.27544235334 + 26395.46076254379 * t);
-        X1 += 0.00000000012 * Math.cos(5.38818267787 + 25780.3455206046 * t);
-        X1 += 0.00000000012 * Math.cos(4.18148179610 + 26724.8994135984 * t);
-        X1 += 0.00000000012 * Math.cos(1.48214323511 + 25450.90686955 * t);
-        X1 += 0.00000000010 * Math.cos(4.43951347141 + 141762.17980617538 * t);
-        X1 += 0.00000000009 * Math.cos(5.62764518642 + 51219.51712717779 * t);
-        X1 += 0.00000000009 * Math.cos(1.40970085491 + 155571.81910783658 * t);
-        X1 += 0.00000000009 * Math.cos(3.80728835859 + 78903.60671103658 * t);
-        X1 += 0.00000000009 * Math.cos(1.98340877635 + 78731.674415077 * t);
-        X1 += 0.00000000010 * Math.cos(1.06876588648 + 90695.75207512038 * t);
-        X1 += 0.00000000012 * Math.cos(2.28213947586 + 25446.4895798352 * t);
-        X1 += 0.00000000012 * Math.cos(3.38148555535 + 26729.31670331319 * t);
-        X1 += 0.00000000010 * Math.cos(4.04489455556 + 65831.6667743248 * t);
-        X1 += 0.00000000009 * Math.cos(1.97985537350 + 16703.062133499 * t);
-        X1 += 0.00000000009 * Math.cos(0.19461343328 + 51707.84129279399 * t);
-        X1 += 0.00000000009 * Math.cos(5.42812340959 + 207593.84658050018 * t);
-        X1 += 0.00000000009 * Math.cos(0.25320629703 + 156100.82065856918 * t);
-        X1 += 0.00000000012 * Math.cos(6.08675975595 + 176953.98994186718 * t);
-        X1 += 0.00000000011 * Math.cos(2.32296397326 + 52022.0274726636 * t);
-        X1 += 0.00000000009 * Math.cos(0.04502499664 + 49842.60989027639 * t);
-        X1 += 0.00000000009 * Math.cos(3.48790336223 + 55516.4187098482 * t);
-        X1 += 0.00000000009 * Math.cos(1.60659830268 + 52609.51802102519 * t);
-        X1 += 0.00000000009 * Math.cos(2.19657708690 + 1911.1994832172 * t);
-        X1 += 0.00000000011 * Math.cos(3.36653560664 + 157057.10981453978 * t);
-        X1 += 0.00000000010 * Math.cos(1.95365576783 + 52381.99183158559 * t);
-        X1 += 0.00000000008 * Math.cos(5.89998501862 + 52182.4348420484 * t);
-        X1 += 0.00000000008 * Math.cos(0.07994652584 + 27177.6119327678 * t);
-        X1 += 0.00000000008 * Math.cos(5.58367850537 + 24998.19435038059 * t);
-        X1 += 0.00000000008 * Math.cos(4.04423154032 + 3340.6124266998 * t);
-        X1 += 0.00000000009 * Math.cos(3.91205376466 + 24491.71669928959 * t);
-        X1 += 0.00000000009 * Math.cos(3.20602268861 + 19.66976089979 * t);
-        X1 += 0.00000000008 * Math.cos(6.13311048887 + 48847.6706268682 * t);
-        X1 += 0.00000000009 * Math.cos(1.07817311326 + 206.1855484372 * t);
-        X1 += 0.00000000008 * Math.cos(6.23748821057 + 860.3099287528 * t);
-        X1 += 0.00000000007 * Math.cos(0.62849516745 + 9384.8410080752 * t);
-        X1 += 0.00000000007 * Math.cos(3.37283868879 + 50696.93970908399 * t);
-        X1 += 0.00000000008 * Math.cos(2.95337805438 + 52595.29092702359 * t);
-        X1 += 0.00000000008 * Math.cos(2.09085109942 + 130446.62925487179 * t);
-        X1 += 0.00000000009 * Math.cos(3.23441439127 + 130443.39704322898 * t);
-        X1 += 0.00000000008 * Math.cos(4.23722680471 + 26720.68688088739 * t);
-        X1 += 0.00000000008 * Math.cos(5.65039159250 + 1223.81784077861 * t);
-        X1 += 0.00000000007 * Math.cos(2.30474556787 + 209812.60368468695 * t);
-        X1 += 0.00000000007 * Math.cos(3.64200504235 + 172402.03644480839 * t);
-        X1 += 0.00000000007 * Math.cos(3.15699312277 + 51013.33157874059 * t);
-        X1 += 0.00000000007 * Math.cos(0.75605454895 + 846.0828347512 * t);
-        X1 += 0.00000000007 * Math.cos(3.04941872455 + 27044.1922975448 * t);
-        X1 += 0.00000000007 * Math.cos(1.99337329060 + 150244.34299945379 * t);
-        X1 += 0.00000000009 * Math.cos(3.93059938713 + 26734.913974889 * t);
-        X1 += 0.00000000007 * Math.cos(4.75714960140 + 52325.36948028299 * t);
-        X1 += 0.00000000007 * Math.cos(5.10226976956 + 13541.42120249119 * t);
-        X1 += 0.00000000007 * Math.cos(5.38424470913 + 80596.9058175946 * t);
-        X1 += 0.00000000007 * Math.cos(0.02516209233 + 110.2063212194 * t);
-        X1 += 0.00000000006 * Math.cos(3.78360025001 + 52278.89905736699 * t);
-        X1 += 0.00000000008 * Math.cos(3.73990342667 + 129387.24732468258 * t);
-        X1 += 0.00000000009 * Math.cos(3.42497309447 + 75930.51303185058 * t);
-        X1 += 0.00000000008 * Math.cos(2.75106262517 + 52169.17772424839 * t);
-        X1 += 0.00000000008 * Math.cos(1.50347216209 + 77726.90491262719 * t);
-        X1 += 0.00000000006 * Math.cos(1.00543740922 + 79330.20490191258 * t);
-        X1 += 0.00000000007 * Math.cos(5.56521824483 + 78378.14871340781 * t);
-        X1 += 0.00000000006 * Math.cos(4.20397273576 + 129373.02023068098 * t);
-        X1 += 0.00000000007 * Math.cos(1.62569971593 + 26162.6847401415 * t);
-        X1 += 0.00000000006 * Math.cos(4.50914445356 + 130652.81480330898 * t);
-        X1 += 0.00000000007 * Math.cos(1.43696950392 + 77630.92568540938 * t);
-        X1 += 0.00000000006 * Math.cos(0.25065144064 + 25508.2155545754 * t);
-        X1 += 0.00000000006 * Math.cos(5.41297359057 + 26667.590728573 * t);
-        X1 += 0.00000000006 * Math.cos(1.04635537302 + 39629.32434406539 * t);
-        X1 += 0.00000000006 * Math.cos(5.52124151783 + 40565.2543247742 * t);
-        X1 += 0.00000000007 * Math.cos(5.85352766815 + 8194.2753332086 * t);
-        X1 += 0.00000000006 * Math.cos(3.75147990976 + 103917.90082841998 * t);
-        X1 += 0.00000000008 * Math.cos(0.93245740025 + 157586.80077963437 * t);
-        X1 += 0.00000000006 * Math.cos(2.36516103356 + 51653.22886505459 * t);
-        X1 += 0.00000000007 * Math.cos(1.15740041561 + 154938.34595416138 * t);
-        X1 += 0.00000000006 * Math.cos(4.00716639365 + 26013.1215430069 * t);
-        X1 += 0.00000000007 * Math.cos(4.77970201762 + 214364.55718174578 * t);
-        X1 += 0.00000000006 * Math.cos(1.84888596079 + 6885.14988993081 * t);
-        X1 += 0.00000000007 * Math.cos(4.36588080270 + 25754.0472008048 * t);
-        X1 += 0.00000000007 * Math.cos(1.29774422851 + 26421.7590823436 * t);
-        X1 += 0.00000000006 * Math.cos(6.00893693971 + 78149.27013603736 * t);
-        X1 += 0.00000000005 * Math.cos(0.89617169225 + 50064.15596977079 * t);
-        X1 += 0.00000000006 * Math.cos(2.63212801251 + 128220.75860368418 * t);
-        X1 += 0.00000000006 * Math.cos(2.80934233604 + 66653.15746634839 * t);
-        X1 += 0.00000000005 * Math.cos(6.05965648339 + 130226.21661243298 * t);
-        X1 += 0.00000000006 * Math.cos(0.06830775273 + 123668.80510662538 * t);
-        X1 += 0.00000000005 * Math.cos(1.17676147240 + 102769.65321801379 * t);
-        X1 += 0.00000000006 * Math.cos(1.81840060185 + 161079.37234650398 * t);
-        X1 += 0.00000000006 * Math.cos(3.17893579358 + 103932.12792242158 * t);
-        X1 += 0.00000000005 * Math.cos(3.89300636955 + 35472.7441496494 * t);
-        X1 += 0.00000000005 * Math.cos(5.74462559833 + 80382.47328510099 * t);
-        X1 += 0.00000000006 * Math.cos(3.53640622861 + 1265.5674786264 * t);
-        X1 += 0.00000000005 * Math.cos(0.40751082829 + 78213.71280281838 * t);
-        X1 += 0.00000000006 * Math.cos(0.47609620784 + 182085.63102592478 * t);
-        X1 += 0.00000000005 * Math.cos(0.72763573757 + 102755.42612401219 * t);
-        X1 += 0.00000000007 * Math.cos(1.01041013974 + 64901.25971792339 * t);
-        X1 += 0.00000000005 * Math.cos(5.06606479586 + 75615.25459924959 * t);
-        X1 += 0.00000000005 * Math.cos(6.09989191383 + 6044.2285813754 * t);
-        X1 += 0.00000000005 * Math.cos(3.68449716556 + 19406.6782881746 * t);
-        X1 += 0.00000000005 * Math.cos(0.55347836802 + 25654.19140369739 * t);
-        X1 += 0.00000000005 * Math.cos(1.21533954768 + 137678.19129947099 * t);
-        X1 += 0.00000000005 * Math.cos(2.42117857215 + 53399.624123927 * t);
-        X1 += 0.00000000005 * Math.cos(3.99647174335 + 27780.06881107659 * t);
-        X1 += 0.00000000005 * Math.cos(0.51237606895 + 26402.0893214438 * t);
-        X1 += 0.00000000005 * Math.cos(5.15124896226 + 25773.71696170459 * t);
-        X1 += 0.00000000005 * Math.cos(1.58549672991 + 77616.69859140778 * t);
-        X1 += 0.00000000006 * Math.cos(0.18266035721 + 50049.92887576919 * t);
-        X1 += 0.00000000005 * Math.cos(3.56670679513 + 17893.6278083656 * t);
-        X1 += 0.00000000005 * Math.cos(1.61430068646 + 54087.0057663656 * t);
-        X1 += 0.00000000005 * Math.cos(0.59515032793 + 45892.73043315699 * t);
-        X1 += 0.00000000005 * Math.cos(4.35949013333 + 24505.94379329119 * t);
-        X1 += 0.00000000004 * Math.cos(2.54682197432 + 130432.40216087017 * t);
-        X1 += 0.00000000004 * Math.cos(1.97821363637 + 51852.30086649099 * t);
-        X1 += 0.00000000005 * Math.cos(2.92494499838 + 204151.27163553478 * t);
-        X1 += 0.00000000004 * Math.cos(2.42171570518 + 132658.27281205778 * t);
-        X1 += 0.00000000005 * Math.cos(4.14081422433 + 25938.3399444396 * t);
-        X1 += 0.00000000005 * Math.cos(4.31428427792 + 39450.3528483734 * t);
-        X1 += 0.00000000005 * Math.cos(4.64089847229 + 65717.22748563958 * t);
-        X1 += 0.00000000004 * Math.cos(2.80245159203 + 51955.39364070959 * t);
-        X1 += 0.00000000004 * Math.cos(5.66137471686 + 103498.41618454478 * t);
-        X1 += 0.00000000005 * Math.cos(1.63974900109 + 52396.2189255872 * t);
-        X1 += 0.00000000004 * Math.cos(4.13434256469 + 104505.39137678158 * t);
-        X1 += 0.00000000005 * Math.cos(0.99790116577 + 123200.84011627098 * t);
-        X1 += 0.00000000004 * Math.cos(5.04512254863 + 949.1756089698 * t);
-        X1 += 0.00000000004 * Math.cos(2.16539647390 + 28791.5192962498 * t);
-        X1 += 0.00000000004 * Math.cos(3.49822855731 + 23384.2869868986 * t);
-        X1 += 0.00000000005 * Math.cos(6.09748705519 + 53029.0026649004 * t);
-        X1 += 0.00000000004 * Math.cos(3.38348270644 + 26823.77965510599 * t);
-        X1 += 0.00000000004 * Math.cos(2.28014232477 + 25352.02662804239 * t);
-        X1 += 0.00000000004 * Math.cos(5.11054976948 + 133882.09065283638 * t);
-        X1 += 0.00000000004 * Math.cos(4.79464066723 + 53771.99272543299 * t);
-        X1 += 0.00000000004 * Math.cos(3.58076228853 + 183570.92173262799 * t);
-        X1 += 0.00000000005 * Math.cos(0.57466690776 + 145204.75475114079 * t);
-        X1 += 0.00000000004 * Math.cos(5.08739935768 + 23439.44831610119 * t);
-        X1 += 0.00000000004 * Math.cos(2.91942328210 + 27170.98337386779 * t);
-        X1 += 0.00000000004 * Math.cos(2.74420174911 + 25004.8229092806 * t);
-        X1 += 0.00000000004 * Math.cos(1.71297602638 + 78786.28684281638 * t);
-        X1 += 0.00000000004 * Math.cos(5.16889446071 + 636.9962720242 * t);
-        X1 += 0.00000000004 * Math.cos(5.09217946129 + 1795.258443721 * t);
-        X1 += 0.00000000005 * Math.cos(3.41506026848 + 26709.6469424134 * t);
-        X1 += 0.00000000005 * Math.cos(2.24856476273 + 25466.159340735 * t);
-        X1 += 0.00000000004 * Math.cos(5.84172747790 + 52065.59996192899 * t);
-        X1 += 0.00000000004 * Math.cos(1.68123807603 + 2221.856634597 * t);
-        X1 += 0.00000000004 * Math.cos(4.55458054656 + 50483.640613646 * t);
-        X1 += 0.00000000005 * Math.cos(2.46371613890 + 25234.70675982219 * t);
-        X1 += 0.00000000004 * Math.cos(2.68517686010 + 78270.33798362259 * t);
-        X1 += 0.00000000004 * Math.cos(1.79847863201 + 34282.1784747828 * t);
-        X1 += 0.00000000004 * Math.cos(0.54205020737 + 199599.31813847595 * t);
-        X1 += 0.00000000004 * Math.cos(0.19066423879 + 143005.66740785378 * t);
-        X1 += 0.00000000004 * Math.cos(3.27752582001 + 78800.51393681798 * t);
-        X1 += 0.00000000004 * Math.cos(5.02476065705 + 130459.18546877075 * t);
-        X1 += 0.00000000004 * Math.cos(4.14907610702 + 3178.1457905676 * t);
-        X1 += 0.00000000004 * Math.cos(4.96500381777 + 52250.5878817157 * t);
-        X1 += 0.00000000003 * Math.cos(4.30211830006 + 78160.61665050399 * t);
-        X1 += 0.00000000004 * Math.cos(4.46181026998 + 87367.61641884019 * t);
-        X1 += 0.00000000004 * Math.cos(5.81440577111 + 60370.08161635699 * t);
-        X1 += 0.00000000004 * Math.cos(1.72859821695 + 130435.63437251298 * t);
-        X1 += 0.00000000004 * Math.cos(1.63790933088 + 26575.53789282839 * t);
-        X1 += 0.00000000004 * Math.cos(4.02571570033 + 25600.26839032 * t);
-        X1 += 0.00000000004 * Math.cos(5.34209380620 + 128320.75184749259 * t);
-        X1 += 0.00000000003 * Math.cos(0.66817274434 + 1485.9801210652 * t);
-        X1 += 0.00000000003 * Math.cos(1.93014248251 + 52309.9153327334 * t);
-        X1 += 0.00000000003 * Math.cos(1.03809809070 + 167850.08294774959 * t);
-        X1 += 0.00000000003 * Math.cos(0.34394173964 + 70383.6202713836 * t);
-        X1 += 0.00000000003 * Math.cos(4.41765442359 + 52252.07235442399 * t);
-        X1 += 0.00000000005 * Math.cos(1.98227688514 + 52808.59002246159 * t);
-        X1 += 0.00000000004 * Math.cos(5.74995583021 + 58857.03113654799 * t);
-        X1 += 0.00000000004 * Math.cos(4.77171683373 + 51951.46148744649 * t);
-        X1 += 0.00000000003 * Math.cos(3.97223691848 + 50264.6067999312 * t);
-        X1 += 0.00000000004 * Math.cos(2.74364830901 + 20043.6745601988 * t);
-        X1 += 0.00000000003 * Math.cos(5.53627007155 + 25985.94062330859 * t);
-        X1 += 0.00000000003 * Math.cos(0.12735495966 + 26189.8656598398 * t);
-        X1 += 0.00000000004 * Math.cos(3.03031240281 + 136722.59155786238 * t);
-        X1 += 0.00000000003 * Math.cos(0.61004720971 + 735.8765135318 * t);
-        X1 += 0.00000000003 * Math.cos(2.56714384303 + 25131.61398560359 * t);
-        X1 += 0.00000000003 * Math.cos(1.95760647082 + 48835.19385644859 * t);
-        X1 += 0.00000000004 * Math.cos(1.89782941813 + 129799.61842155698 * t);
-        X1 += 0.00000000003 * Math.cos(4.19410945260 + 181026.24909573558 * t);
-        X1 += 0.00000000003 * Math.cos(0.20996976206 + 26073.67604757259 * t);
-        X1 += 0.00000000003 * Math.cos(5.45365526915 + 26102.1302355758 * t);
-        X1 += 0.00000000003 * Math.cos(4.53247360475 + 86143.79857806159 * t);
-        X1 += 0.00000000004 * Math.cos(2.86746639454 + 37698.4550999484 * t);
-        X1 += 0.00000000003 * Math.cos(3.44421079458 + 26247.2048763664 * t);
-        X1 += 0.00000000003 * Math.cos(2.21941423663 + 25928.601406782 * t);
-        X1 += 0.00000000004 * Math.cos(4.84952063164 + 132028.58860315479 * t);
-        X1 += 0.00000000004 * Math.cos(1.88877518970 + 467.9649903544 * t);
-        X1 += 0.00000000003 * Math.cos(2.53719866549 + 8989.46770543239 * t);
-        X1 += 0.00000000004 * Math.cos(3.00645389386 + 32132.1317229496 * t);
-        X1 += 0.00000000004 * Math.cos(1.14854014554 + 166740.70439565618 * t);
-        X1 += 0.00000000003 * Math.cos(5.16507118208 + 2703.6161546756 * t);
-        X1 += 0.00000000003 * Math.cos(1.57772720091 + 79315.97780791098 * t);
-        X1 += 0.00000000003 * Math.cos(4.62863855126 + 130866.11389874699 * t);
-        X1 += 0.00000000003 * Math.cos(2.23216290209 + 51868.2486621788 * t);
-        X1 += 0.00000000003 * Math.cos(2.34626079514 + 126996.94076290558 * t);
-        X1 += 0.00000000003 * Math.cos(0.19144773586 + 76784.84285065818 * t);
-        X1 += 0.00000000004 * Math.cos(0.40583501169 + 78109.93061423779 * t);
-        X1 += 0.00000000003 * Math.cos(1.31292716378 + 19202.75325164339 * t);
-        X1 += 0.00000000003 * Math.cos(0.19319971566 + 61560.64729122359 * t);
-        X1 += 0.00000000003 * Math.cos(5.72167155686 + 52286.01260436779 * t);
-        X1 += 0.00000000003 * Math.cos(6.06197330359 + 77101.23472031478 * t);
-        X1 += 0.00000000003 * Math.cos(5.97751979418 + 77741.13200662879 * t);
-        X1 += 0.00000000003 * Math.cos(3.62486778390 + 45290.65639321759 * t);
-        X1 += 0.00000000003 * Math.cos(5.68567369750 + 24925.4284371664 * t);
-        X1 += 0.00000000004 * Math.cos(6.05038593627 + 28286.9904848612 * t);
-        X1 += 0.00000000004 * Math.cos(5.89642440212 + 23888.81579828719 * t);
-        X1 += 0.00000000002 * Math.cos(3.26392643567 + 182188.72380014337 * t);
-        X1 += 0.00000000003 * Math.cos(5.52666614504 + 74.7815985673 * t);
-        X1 += 0.00000000003 * Math.cos(6.24797687447 + 27250.37784598199 * t);
-        X1 += 0.00000000003 * Math.cos(5.71051457818 + 51315.49635439559 * t);
-        X1 += 0.00000000002 * Math.cos(3.83786759867 + 173511.41499690177 * t);
-        X1 += 0.00000000002 * Math.cos(2.79317647457 + 2008.557539159 * t);
-        X1 += 0.00000000002 * Math.cos(2.32070917581 + 81591.84508100279 * t);
-        X1 += 0.00000000002 * Math.cos(4.91686748502 + 51329.7234483972 * t);
-        X1 += 0.00000000002 * Math.cos(5.68200667980 + 147423.51185532758 * t);
-        X1 += 0.00000000003 * Math.cos(0.23735872795 + 81604.32185142238 * t);
-        X1 += 0.00000000003 * Math.cos(0.95743283729 + 52812.8025551726 * t);
-        X1 += 0.00000000003 * Math.cos(4.47606214286 + 34082.4315835984 * t);
-        X1 += 0.00000000003 * Math.cos(1.59253054642 + 391318.54712361297 * t);
-        X1 += 0.00000000002 * Math.cos(4.54029209815 + 196137.07343261078 * t);
-        X1 += 0.00000000003 * Math.cos(2.85252650926 + 156507.74908854539 * t);
-        X1 += 0.00000000002 * Math.cos(6.12062449239 + 121335.60871375339 * t);
-        X1 += 0.00000000003 * Math.cos(2.50847406676 + 27726.9726587622 * t);
-        X1 += 0.00000000003 * Math.cos(3.15515096445 + 24448.8336243862 * t);
-        X1 += 0.00000000002 * Math.cos(4.46394320758 + 26011.6370702986 * t);
-        X1 += 0.00000000002 * Math.cos(1.06183386008 + 78057.52387628538 * t);
-        X1 += 0.00000000003 * Math.cos(4.75030126782 + 78313.70604662679 * t);
-        X1 += 0.00000000003 * Math.cos(2.83857270203 + 203041.89308344138 * t);
-        X1 += 0.00000000002 * Math.cos(1.11670300110 + 38634.3850806572 * t);
-        X1 += 0.00000000003 * Math.cos(5.82930728472 + 78257.08086582259 * t);
-        X1 += 0.00000000002 * Math.cos(0.05620437017 + 205260.65018762815 * t);
-        X1 += 0.00000000002 * Math.cos(5.65450810136 + 114.43928868521 * t);
-        X1 += 0.00000000003 * Math.cos(2.95149274211 + 128106.31931499895 * t);
-        X1 += 0.00000000003 * Math.cos(3.52707759552 + 52041.69723356339 * t);
-        X1 += 0.00000000002 * Math.cos(0.81911436141 + 24609.0365675098 * t);
-        X1 += 0.00000000002 * Math.cos(5.03728139459 + 104819.57755665119 * t);
-        X1 += 0.00000000002 * Math.cos(0.34244940933 + 62197.64356324779 * t);
-        X1 += 0.00000000002 * Math.cos(1.09939750415 + 74923.09699802278 * t);
-        X1 += 0.00000000002 * Math.cos(2.48332922164 + 101703.15774082378 * t);
-        X1 += 0.00000000002 * Math.cos(0.60560213674 + 17098.43543614181 * t);
-        X1 += 0.00000000002 * Math.cos(5.11946015222 + 78469.89497315978 * t);
-        X1 += 0.00000000002 * Math.cos(2.20613703147 + 77307.42026875199 * t);
-        X1 += 0.00000000002 * Math.cos(0.59446302071 + 104991.50985261079 * t);
-        X1 += 0.00000000002 * Math.cos(4.03918468742 + 26312.2479372761 * t);
-        X1 += 0.00000000002 * Math.cos(0.80941764272 + 91919.56991589899 * t);
-        X1 += 0.00000000002 * Math.cos(4.02958262076 + 26183.88236879199 * t);
-        X1 += 0.00000000002 * Math.cos(1.63404241045 + 25991.92391435639 * t);
-        X1 += 0.00000000002 * Math.cos(3.64118684388 + 225687.22128005016 * t);
-        X1 += 0.00000000002 * Math.cos(2.90800082543 + 96357.08412427259 * t);
-        X1 += 0.00000000002 * Math.cos(3.38748443048 + 177287.84588263658 * t);
-        X1 += 0.00000000003 * Math.cos(5.23217095654 + 51534.3927214094 * t);
-        X1 += 0.00000000002 * Math.cos(1.72280954996 + 215473.93573383916 * t);
-        X1 += 0.00000000002 * Math.cos(1.73910591832 + 25455.119402261 * t);
-        X1 += 0.00000000002 * Math.cos(0.08655833344 + 183145.01295611398 * t);
-        X1 += 0.00000000002 * Math.cos(4.91320505829 + 189386.03259226495 * t);
-        X1 += 0.00000000002 * Math.cos(2.73964259090 + 26397.18146422999 * t);
-        X1 += 0.00000000002 * Math.cos(2.92398244031 + 25778.62481891839 * t);
-        X1 += 0.00000000002 * Math.cos(5.05024038444 + 42790.9652750732 * t);
-        X1 += 0.00000000002 * Math.cos(5.11101145665 + 51538.81001112419 * t);
-        X1 += 0.00000000002 * Math.cos(4.02707586748 + 24952.226269681 * t);
-        X1 += 0.00000000002 * Math.cos(1.63654916373 + 27223.5800134674 * t);
-        X1 += 0.00000000002 * Math.cos(4.56989494681 + 103718.82882698359 * t);
-        X1 += 0.00000000002 * Math.cos(3.21686304521 + 25984.1209529936 * t);
-        X1 += 0.00000000002 * Math.cos(2.44676198600 + 26191.68533015479 * t);
-        X1 += 0.00000000002 * Math.cos(0.73451437899 + 25927.49577218939 * t);
-        X1 += 0.00000000002 * Math.cos(4.92911065222 + 26248.310510959 * t);
-        X1 += 0.00000000002 * Math.cos(3.14486706475 + 53265.515074342 * t);
-        X1 += 0.00000000002 * Math.cos(1.46628877500 + 51841.950342379 * t);
-        X1 += 0.00000000002 * Math.cos(2.09863898672 + 29550.14784743939 * t);
-        X1 += 0.00000000002 * Math.cos(3.56498604449 + 22625.658435709 * t);
-        X1 += 0.00000000002 * Math.cos(1.44463204026 + 27037.07875054399 * t);
-        X1 += 0.00000000002 * Math.cos(4.21899299095 + 25138.7275326044 * t);
-        X1 += 0.00000000002 * Math.cos(0.12919974221 + 52817.21984488739 * t);
-        X1 += 0.00000000002 * Math.cos(5.02538083126 + 138319.60486120995 * t);
-        X1 += 0.00000000002 * Math.cos(3.79805429136 + 104202.04936916218 * t);
-        X1 += 0.00000000002 * Math.cos(3.65031025117 + 233731.74634397858 * t);
-        X1 += 0.00000000002 * Math.cos(3.29338443989 + 54824.2611086214 * t);
-        X1 += 0.00000000002 * Math.cos(2.12894187827 + 50910.238804522 * t);
-        X1 += 0.00000000002 * Math.cos(3.08974476939 + 51859.41441349179 * t);
-        X1 += 0.00000000002 * Math.cos(5.26455969937 + 92741.06060792258 * t);
-        X1 += 0.00000000002 * Math.cos(5.25139825164 + 168959.46149984296 * t);
-        X1 += 0.00000000002 * Math.cos(1.46840529933 + 25863.55834587229 * t);
-        X1 += 0.00000000002 * Math.cos(4.33245746008 + 23976.2528281966 * t);
-        X1 += 0.00000000002 * Math.cos(4.40672336509 + 53757.76563143139 * t);
-        X1 += 0.00000000002 * Math.cos(5.60768237774 + 52492.19815280499 * t);
-        X1 += 0.00000000002 * Math.cos(5.50882009325 + 26076.8574413103 * t);
-        X1 += 0.00000000002 * Math.cos(0.15480493796 + 26098.9488418381 * t);
-        X1 += 0.00000000002 * Math.cos(4.95075276458 + 176332.24614102798 * t);
-        X1 += 0.00000000002 * Math.cos(5.17774922517 + 78896.49316403578 * t);
-        X1 += 0.00000000002 * Math.cos(0.26673303771 + 26411.4085582316 * t);
-        X1 += 0.00000000002 * Math.cos(4.42579128459 + 181659.72224941078 * t);
-        X1 += 0.00000000002 * Math.cos(3.44678527119 + 52483.36390411799 * t);
-        X1 += 0.00000000002 * Math.cos(5.27672418948 + 113341.08027172917 * t);
-        X1 += 0.00000000001 * Math.cos(4.63971494884 + 27351.06050415239 * t);
-        X1 += 0.00000000001 * Math.cos(1.02391008237 + 24824.745778996 * t);
-        X1 += 0.00000000001 * Math.cos(4.66880968358 + 78697.42116259939 * t);
-        X1 += 0.00000000001 * Math.cos(3.24905067191 + 51596.1186961496 * t);
-        X1 += 0.00000000002 * Math.cos(4.53665275519 + 103814.80805420138 * t);
-        X1 += 0.00000000002 * Math.cos(4.58331327521 + 116783.65521669458 * t);
-        X1 += 0.00000000002 * Math.cos(0.70194343478 + 51226.63067417859 * t);
-        X1 += 0.00000000002 * Math.cos(0.18180872148 + 151199.94274106238 * t);
-        X1 += 0.00000000001 * Math.cos(3.03383040944 + 231348.55332920236 * t);
-        X1 += 0.00000000002 * Math.cos(2.67846250087 + 50951.98844236979 * t);
-        X1 += 0.00000000002 * Math.cos(1.58435794119 + 25440.89230825939 * t);
-        X1 += 0.00000000001 * Math.cos(1.25537531369 + 193937.98608932378 * t);
-        X1 += 0.00000000002 * Math.cos(3.35591413107 + 86457.98475793119 * t);
-        X1 += 0.00000000001 * Math.cos(4.71704307559 + 54879.422437824 * t);
-        X1 += 0.00000000002 * Math.cos(4.94615782219 + 94329.77528619739 * t);
-        X1 += 0.00000000001 * Math.cos(4.19525126274 + 189853.99758261938 * t);
-        X1 += 0.00000000001 * Math.cos(4.79191528728 + 52509.6622239178 * t);
-        X1 += 0.00000000002 * Math.cos(5.64922837609 + 26713.57333388659 * t);
-        X1 += 0.00000000002 * Math.cos(0.01439665512 + 25462.2329492618 * t);
-        X1 += 0.00000000002 * Math.cos(3.08925038032 + 118828.96374949679 * t);
-        X1 += 0.00000000002 * Math.cos(1.97012173863 + 99024.13645791399 * t);
-        X1 += 0.00000000002 * Math.cos(4.11674730434 + 23919.1426592916 * t);
-        X1 += 0.00000000002 * Math.cos(1.54687772687 + 28256.66362385679 * t);
-        X1 += 0.00000000002 * Math.cos(4.79684569019 + 35077.37084700659 * t);
-        X1 += 0.00000000001 * Math.cos(1.58300591770 + 28199.55345495179 * t);
-        X1 += 0.00000000001 * Math.cos(5.37086062741 + 87253.17713015496 * t);
-        X1 += 0.00000000001 * Math.cos(0.36331366874 + 103127.79472551816 * t);
-        X1 += 0.00000000001 * Math.cos(5.62873981032 + 112545.88789950538 * t);
-        X1 += 0.00000000001 * Math.cos(2.53173488195 + 112231.70171963578 * t);
-        X1 += 0.00000000001 * Math.cos(3.50023943727 + 26933.9859763254 * t);
-        X1 += 0.00000000001 * Math.cos(0.57318968993 + 50380.54783942739 * t);
-        X1 += 0.00000000001 * Math.cos(4.87198031328 + 241561.83887541336 * t);
-        X1 += 0.00000000002 * Math.cos(5.62002771737 + 27566.76971563859 * t);
-        X1 += 0.00000000001 * Math.cos(4.38686363141 + 80174.90890793978 * t);
-        X1 += 0.00000000001 * Math.cos(3.98058009404 + 49953.94964855139 * t);
-        X1 += 0.00000000001 * Math.cos(0.70022281901 + 155460.92337225519 * t);
-        X1 += 0.00000000001 * Math.cos(0.70726844016 + 179172.74704605396 * t);
-        X1 += 0.00000000001 * Math.cos(4.37321488294 + 26926.87242932459 * t);
-        X1 += 0.00000000001 * Math.cos(1.29041014827 + 25248.9338538238 * t);
-        X1 += 0.00000000001 * Math.cos(5.32324865971 + 139428.98341330336 * t);
-        X1 += 0.00000000001 * Math.cos(1.51650944248 + 48997.6604925808 * t);
-        X1 += 0.00000000001 * Math.cos(4.69307275860 + 90989.16285949759 * t);
-        X1 += 0.00000000001 * Math.cos(0.54761639710 + 23962.02573419499 * t);
-        X1 += 0.00000000001 * Math.cos(5.22070652557 + 27005.83342755599 * t);
-        X1 += 0.00000000001 * Math.cos(0.44291850564 + 25169.9728555924 * t);
-        X1 += 0.00000000001 * Math.cos(4.43926451679 + 143980.93691036216 * t);
-        X1 += 0.00000000001 * Math.cos(4.99715761034 + 50689.82616208319 * t);
-        X1 += 0.00000000001 * Math.cos(0.26741554519 + 163298.12945069079 * t);
-        X1 += 0.00000000001 * Math.cos(3.67963627218 + 133767.65136415116 * t);
-        X1 += 0.00000000001 * Math.cos(1.24890392539 + 122444.98726584678 * t);
-        X1 += 0.00000000001 * Math.cos(4.07473618347 + 76152.05911134499 * t);
-        X1 += 0.00000000001 * Math.cos(1.41453859000 + 84307.93800609799 * t);
-        X1 += 0.00000000001 * Math.cos(5.82040259792 + 24072.9214697764 * t);
-        X1 += 0.00000000001 * Math.cos(6.12640774047 + 28102.884813372 * t);
-        X1 += 0.00000000001 * Math.cos(0.51650041444 + 24844.41553989579 * t);
-        X1 += 0.00000000001 * Math.cos(5.14712461677 + 27331.3907432526 * t);
-        X1 += 0.00000000001 * Math.cos(1.95974246534 + 154408.65498906678 * t);
-        X1 += 0.00000000001 * Math.cos(1.80028024653 + 106262.81204951399 * t);
-        X1 += 0.00000000001 * Math.cos(5.62631785594 + 58220.0348645238 * t);
-        X1 += 0.00000000001 * Math.cos(2.37988104916 + 97670.38771289718 * t);
-        X1 += 0.00000000001 * Math.cos(4.99005405979 + 117893.03376878797 * t);
-        X1 += 0.00000000001 * Math.cos(4.63169895688 + 24356.7807886416 * t);
-        X1 += 0.00000000001 * Math.cos(1.03192607433 + 27819.0254945068 * t);
-        X1 += 0.00000000001 * Math.cos(2.00018453744 + 24395.7374720718 * t);
-        X1 += 0.00000000001 * Math.cos(0.64266724686 + 149642.26895951436 * t);
-        X1 += 0.00000000001 * Math.cos(1.86708387864 + 132350.71519108818 * t);
-        X1 += 0.00000000001 * Math.cos(3.72309272905 + 148532.89040742096 * t);
-        X1 += 0.00000000001 * Math.cos(0.33911349458 + 209658.82487420218 * t);
-        X1 += 0.00000000001 * Math.cos(3.17243932745 + 125112.03959948818 * t);
-        X1 += 0.00000000001 * Math.cos(5.05024621722 + 137210.22630911658 * t);
-        X1 += 0.00000000001 * Math.cos(5.41436422726 + 23704.71012679799 * t);
-        X1 += 0.00000000001 * Math.cos(0.24926080395 + 28471.0961563504 * t);
-        X1 += 0.00000000001 * Math.cos(5.21985223980 + 51439.92976961659 * t);
-        X1 += 0.00000000001 * Math.cos(4.02649464248 + 26177.38888942019 * t);
-        X1 += 0.00000000001 * Math.cos(1.63713038873 + 25998.4173937282 * t);
-        X1 += 0.00000000001 * Math.cos(1.98713499450 + 233681.74972207438 * t);
-        X1 += 0.00000000001 * Math.cos(3.17318181579 + 21650.38893320061 * t);
-        X1 += 0.00000000001 * Math.cos(2.49044321542 + 30525.41734994779 * t);
-        X1 += 0.00000000001 * Math.cos(0.19731686066 + 26094.53170047421 * t);
-        X1 += 0.00000000001 * Math.cos(4.15055550489 + 24203.0019781568 * t);
-        X1 += 0.00000000001 * Math.cos(1.51306952633 + 27972.80430499159 * t);
-        X1 += 0.00000000001 * Math.cos(3.82198016519 + 104197.83375581198 * t);
-        X1 += 0.00000000001 * Math.cos(2.86028052056 + 50167.24874398939 * t);
-        X1 += 0.00000000001 * Math.cos(1.54854247637 + 78413.27262185719 * t);
-        X1 += 0.00000000001 * Math.cos(6.28162689960 + 156531.30018480319 * t);
-        X1 += 0.00000000001 * Math.cos(6.09525332464 + 25227.59321282139 * t);
-        X1 += 0.00000000001 * Math.cos(4.51338458149 + 25151.97316086539 * t);
-        X1 += 0.00000000001 * Math.cos(1.15024044972 + 27023.833122283 * t);
-        X1 += 0.00000000001 * Math.cos(4.26118287889 + 247223.17092456557 * t);
-        X1 += 0.00000000001 * Math.cos(4.56611897971 + 102018.41617342478 * t);
-        X1 += 0.00000000001 * Math.cos(1.45821418416 + 163766.09444104518 * t);
-        X1 += 0.00000000001 * Math.cos(3.96461816746 + 183674.70392120858 * t);
-        X1 += 0.00000000001 * Math.cos(6.06920679029 + 26126.036177212 * t);
-        X1 += 0.00000000001 * Math.cos(5.87760354810 + 26049.7701059364 * t);
-        X1 += 0.00000000001 * Math.cos(6.26540081354 + 107679.74822257696 * t);
-        X1 += 0.00000000001 * Math.cos(5.34892363416 + 27388.72995977919 * t);
-        X1 += 0.00000000001 * Math.cos(0.31470139705 + 24787.0763233692 * t);
-        X1 += 0.00000000001 * Math.cos(0.51689218530 + 155475.15046625677 * t);
-        X1 += 0.00000000001 * Math.cos(5.17339556279 + 24602.61243487099 * t);
-        X1 += 0.00000000001 * Math.cos(0.49022946842 + 27573.1938482774 * t);
-        X1 += 0.00000000001 * Math.cos(0.40614537067 + 198489.93958638258 * t);
-        X1 += 0.00000000001 * Math.cos(5.13509102157 + 156534.53239644598 * t);
-        X1 += 0.00000000001 * Math.cos(2.23259165946 + 61165.27398858079 * t);
-        X1 += 0.00000000001 * Math.cos(0.52115552294 + 130005.80396999417 * t);
-        X1 += 0.00000000001 * Math.cos(0.61669479944 + 77039.89158394396 * t);
-        X1 += 0.00000000001 * Math.cos(6.28031983065 + 129215.69786709236 * t);
-        X1 += 0.00000000001 * Math.cos(5.25475920583 + 25923.46723098479 * t);
-        X1 += 0.00000000001 * Math.cos(0.40886582538 + 26252.33905216361 * t);
-        X1 += 0.00000000001 * Math.cos(1.82474594164 + 73891.83305794839 * t);
-        X1 += 0.00000000001 * Math.cos(1.20518566567 + 126067.63934109679 * t);
-        X1 += 0.00000000001 * Math.cos(2.40166427113 + 30171.8916482786 * t);
-        X1 += 0.00000000001 * Math.cos(3.26196076008 + 22003.9146348698 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 299 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00001484185 * Math.cos(4.35401210269 + 52175.8062831484 * t);
-        X2 += 0.00000907467 * Math.cos(1.13216343018 + 78263.70942472259 * t);
-        X2 += 0.00001214995;
-        X2 += 0.00000368809 * Math.cos(4.18705944126 + 104351.61256629678 * t);
-        X2 += 0.00000254306 * Math.cos(4.12817377140 + 26087.9031415742 * t);
-        X2 += 0.00000130149 * Math.cos(0.95681684789 + 130439.51570787099 * t);
-        X2 += 0.00000042868 * Math.cos(4.00892196726 + 156527.41884944518 * t);
-        X2 += 0.00000013566 * Math.cos(0.77740665693 + 182615.32199101939 * t);
-        X2 += 0.00000004184 * Math.cos(3.82884210516 + 208703.22513259358 * t);
-        X2 += 0.00000002906 * Math.cos(1.33529655305 + 24978.5245894808 * t);
-        X2 += 0.00000002677 * Math.cos(4.31517647277 + 27197.2816936676 * t);
-        X2 += 0.00000001268 * Math.cos(0.59695956916 + 234791.12827416777 * t);
-        X2 += 0.00000001011 * Math.cos(4.40490230415 + 51066.427731055 * t);
-        X2 += 0.00000000379 * Math.cos(3.64772765617 + 260879.03141574195 * t);
-        X2 += 0.00000000354 * Math.cos(1.08917562345 + 53285.1848352418 * t);
-        X2 += 0.00000000350 * Math.cos(1.77280702796 + 1109.3785520934 * t);
-        X2 += 0.00000000352 * Math.cos(1.18170316153 + 77154.33087262919 * t);
-        X2 += 0.00000000177 * Math.cos(1.12611560699 + 1589.0728952838 * t);
-        X2 += 0.00000000193 * Math.cos(4.15648107481 + 25132.3033999656 * t);
-        X2 += 0.00000000171 * Math.cos(1.47490138738 + 27043.5028831828 * t);
-        X2 += 0.00000000161 * Math.cos(0.04902247718 + 1059.3819301892 * t);
-        X2 += 0.00000000140 * Math.cos(1.84983910496 + 21535.9496445154 * t);
-        X2 += 0.00000000140 * Math.cos(4.99408246712 + 20426.571092422 * t);
-        X2 += 0.00000000117 * Math.cos(5.88592772067 + 26617.5941066688 * t);
-        X2 += 0.00000000115 * Math.cos(6.09306139752 + 25558.2121764796 * t);
-        X2 += 0.00000000112 * Math.cos(0.41587357894 + 286966.93455731616 * t);
-        X2 += 0.00000000116 * Math.cos(1.82846585957 + 46514.4742339962 * t);
-        X2 += 0.00000000107 * Math.cos(2.57772432456 + 14765.2390432698 * t);
-        X2 += 0.00000000105 * Math.cos(2.94297794273 + 27147.28507176339 * t);
-        X2 += 0.00000000124 * Math.cos(1.42405663717 + 23869.1460373874 * t);
-        X2 += 0.00000000103 * Math.cos(3.78216777057 + 4551.9534970588 * t);
-        X2 += 0.00000000120 * Math.cos(4.23792109159 + 103242.23401420339 * t);
-        X2 += 0.00000000103 * Math.cos(4.21297257897 + 28306.66024576099 * t);
-        X2 += 0.00000000099 * Math.cos(0.66196730608 + 31749.2351907264 * t);
-        X2 += 0.00000000085 * Math.cos(5.14492546566 + 19317.1925403286 * t);
-        X2 += 0.00000000068 * Math.cos(0.11271966893 + 9103.9069941176 * t);
-        X2 += 0.00000000066 * Math.cos(3.92016503259 + 3442.5749449654 * t);
-        X2 += 0.00000000061 * Math.cos(4.53397757302 + 50586.73338786459 * t);
-        X2 += 0.00000000059 * Math.cos(4.88869826613 + 72602.37737557039 * t);
-        X2 += 0.00000000059 * Math.cos(3.10507163380 + 37410.5672398786 * t);
-        X2 += 0.00000000059 * Math.cos(2.56122053117 + 52705.49724824299 * t);
-        X2 += 0.00000000059 * Math.cos(2.65338512183 + 529.6909650946 * t);
-        X2 += 0.00000000065 * Math.cos(0.65463924387 + 51220.20654153979 * t);
-        X2 += 0.00000000057 * Math.cos(3.80644223882 + 30639.856638633 * t);
-        X2 += 0.00000000070 * Math.cos(1.72021333432 + 22645.32819660879 * t);
-        X2 += 0.00000000055 * Math.cos(5.61982417509 + 51116.4243529592 * t);
-        X2 += 0.00000000053 * Math.cos(0.46679718569 + 32858.61374281979 * t);
-        X2 += 0.00000000051 * Math.cos(5.34709457186 + 639.897286314 * t);
-        X2 += 0.00000000049 * Math.cos(4.02776993187 + 27676.976036858 * t);
-        X2 += 0.00000000045 * Math.cos(1.60026053734 + 25973.46385288896 * t);
-        X2 += 0.00000000044 * Math.cos(4.05810232577 + 26202.34243025941 * t);
-        X2 += 0.00000000045 * Math.cos(5.95361998059 + 53235.18821333759 * t);
-        X2 += 0.00000000053 * Math.cos(5.16526900470 + 955.5997416086 * t);
-        X2 += 0.00000000039 * Math.cos(2.65493111018 + 25874.6040461362 * t);
-        X2 += 0.00000000039 * Math.cos(5.64911272409 + 40853.142184844 * t);
-        X2 += 0.00000000038 * Math.cos(2.96694233358 + 26301.2022370122 * t);
-        X2 += 0.00000000036 * Math.cos(1.80953346883 + 2118.7638603784 * t);
-        X2 += 0.00000000044 * Math.cos(3.91987173876 + 29530.4780865396 * t);
-        X2 += 0.00000000038 * Math.cos(4.27891905126 + 53131.406024757 * t);
-        X2 += 0.00000000033 * Math.cos(0.62515314785 + 56727.7597802072 * t);
-        X2 += 0.00000000040 * Math.cos(1.01193838180 + 129330.13715577759 * t);
-        X2 += 0.00000000033 * Math.cos(3.46947113137 + 313054.83769889036 * t);
-        X2 += 0.00000000031 * Math.cos(4.26713688144 + 6770.7106012456 * t);
-        X2 += 0.00000000038 * Math.cos(1.69042706019 + 2218.7571041868 * t);
-        X2 += 0.00000000032 * Math.cos(4.48774417428 + 49957.0491789616 * t);
-        X2 += 0.00000000031 * Math.cos(1.93866033936 + 47623.8527860896 * t);
-        X2 += 0.00000000025 * Math.cos(5.55384551516 + 43071.8992890308 * t);
-        X2 += 0.00000000025 * Math.cos(1.66429605369 + 98690.28051714458 * t);
-        X2 += 0.00000000024 * Math.cos(5.51512603999 + 78793.40038981718 * t);
-        X2 += 0.00000000023 * Math.cos(3.56120112847 + 77308.10968311399 * t);
-        X2 += 0.00000000027 * Math.cos(0.98357005483 + 54394.56338733519 * t);
-        X2 += 0.00000000022 * Math.cos(1.92756765233 + 45405.0956819028 * t);
-        X2 += 0.00000000018 * Math.cos(3.61025694461 + 58946.51688439399 * t);
-        X2 += 0.00000000024 * Math.cos(0.61193595038 + 18849.2275499742 * t);
-        X2 += 0.00000000018 * Math.cos(6.14187591989 + 213.299095438 * t);
-        X2 += 0.00000000018 * Math.cos(1.73990981189 + 52156.1365222486 * t);
-        X2 += 0.00000000017 * Math.cos(2.72916234159 + 79323.09135491178 * t);
-        X2 += 0.00000000021 * Math.cos(2.68093863363 + 13655.8604911764 * t);
-        X2 += 0.00000000017 * Math.cos(2.40773796722 + 12566.1516999828 * t);
-        X2 += 0.00000000018 * Math.cos(0.31168509807 + 51535.90899683439 * t);
-        X2 += 0.00000000017 * Math.cos(6.10620927353 + 52389.1053785864 * t);
-        X2 += 0.00000000016 * Math.cos(1.66583339325 + 23754.70674870219 * t);
-        X2 += 0.00000000017 * Math.cos(3.21787186790 + 51646.11531805379 * t);
-        X2 += 0.00000000016 * Math.cos(1.85663665448 + 48733.23133818299 * t);
-        X2 += 0.00000000015 * Math.cos(5.39822666802 + 38654.05484155699 * t);
-        X2 += 0.00000000017 * Math.cos(0.47473519961 + 426.598190876 * t);
-        X2 += 0.00000000016 * Math.cos(4.15133356060 + 79373.08797681599 * t);
-        X2 += 0.00000000015 * Math.cos(4.37601198404 + 853.196381752 * t);
-        X2 += 0.00000000014 * Math.cos(5.09664706361 + 52179.6876185064 * t);
-        X2 += 0.00000000014 * Math.cos(3.68991823488 + 82815.66292178139 * t);
-        X2 += 0.00000000014 * Math.cos(2.42828725984 + 66941.04532641819 * t);
-        X2 += 0.00000000014 * Math.cos(3.63538725359 + 110012.94461544899 * t);
-        X2 += 0.00000000014 * Math.cos(0.69791035823 + 53764.8791784322 * t);
-        X2 += 0.00000000015 * Math.cos(0.66471022805 + 52195.47604404819 * t);
-        X2 += 0.00000000013 * Math.cos(1.07484706961 + 76674.63652943878 * t);
-        X2 += 0.00000000015 * Math.cos(4.95964145342 + 33326.5787331742 * t);
-        X2 += 0.00000000012 * Math.cos(3.86072810652 + 50057.04242277 * t);
-        X2 += 0.00000000016 * Math.cos(0.69576423227 + 55618.3812281138 * t);
-        X2 += 0.00000000013 * Math.cos(0.67881557905 + 83925.04147387479 * t);
-        X2 += 0.00000000013 * Math.cos(4.06012579136 + 155418.04029735178 * t);
-        X2 += 0.00000000012 * Math.cos(4.00107179066 + 28421.0995344462 * t);
-        X2 += 0.00000000013 * Math.cos(3.59727069136 + 52171.9249477904 * t);
-        X2 += 0.00000000013 * Math.cos(3.14908318702 + 36301.18868778519 * t);
-        X2 += 0.00000000011 * Math.cos(1.67250696064 + 24498.8302462904 * t);
-        X2 += 0.00000000014 * Math.cos(4.17248996684 + 5661.3320491522 * t);
-        X2 += 0.00000000013 * Math.cos(2.13490029542 + 26727.8004278882 * t);
-        X2 += 0.00000000013 * Math.cos(0.63715146770 + 11322.6640983044 * t);
-        X2 += 0.00000000010 * Math.cos(6.18169621500 + 62389.09182935939 * t);
-        X2 += 0.00000000010 * Math.cos(0.83598356132 + 52290.24557183361 * t);
-        X2 += 0.00000000012 * Math.cos(3.14290523608 + 26514.5013324502 * t);
-        X2 += 0.00000000010 * Math.cos(3.11126287173 + 35191.8101356918 * t);
-        X2 += 0.00000000009 * Math.cos(1.25757815859 + 76044.9523205358 * t);
-        X2 += 0.00000000010 * Math.cos(2.52278705670 + 15874.6175953632 * t);
-        X2 += 0.00000000010 * Math.cos(0.24410880924 + 339142.74084046457 * t);
-        X2 += 0.00000000011 * Math.cos(3.00721890024 + 38519.945791972 * t);
-        X2 += 0.00000000009 * Math.cos(4.70984038054 + 124778.18365871879 * t);
-        X2 += 0.00000000010 * Math.cos(2.93539474520 + 25028.521211385 * t);
-        X2 += 0.00000000009 * Math.cos(4.78186604625 + 78244.0396638228 * t);
-        X2 += 0.00000000009 * Math.cos(4.66454207113 + 52061.36699446317 * t);
-        X2 += 0.00000000009 * Math.cos(3.23143026804 + 39609.6545831656 * t);
-        X2 += 0.00000000008 * Math.cos(4.04549915755 + 2333.196392872 * t);
-        X2 += 0.00000000008 * Math.cos(4.74485412331 + 28206.6670019526 * t);
-        X2 += 0.00000000009 * Math.cos(2.19121952514 + 104881.30353139139 * t);
-        X2 += 0.00000000008 * Math.cos(0.23967004017 + 103396.01282468818 * t);
-        X2 += 0.00000000008 * Math.cos(0.37987106631 + 136100.84775702319 * t);
-        X2 += 0.00000000009 * Math.cos(4.91595161990 + 16983.9961474566 * t);
-        X2 += 0.00000000008 * Math.cos(0.60920060214 + 79219.30916633119 * t);
-        X2 += 0.00000000009 * Math.cos(0.20735942028 + 7994.5284420242 * t);
-        X2 += 0.00000000008 * Math.cos(0.45328868578 + 12432.0426503978 * t);
-        X2 += 0.00000000008 * Math.cos(2.09461474144 + 7238.67559160 * t);
-        X2 += 0.00000000007 * Math.cos(2.36547832832 + 69159.80243060499 * t);
-        X2 += 0.00000000007 * Math.cos(4.71531871147 + 52168.69273614759 * t);
-        X2 += 0.00000000008 * Math.cos(6.19634687633 + 63498.47038145279 * t);
-        X2 += 0.00000000007 * Math.cos(2.10610027970 + 64741.95798313119 * t);
-        X2 += 0.00000000007 * Math.cos(1.85911354830 + 78267.59076008058 * t);
-        X2 += 0.00000000008 * Math.cos(4.00207680038 + 52182.9198301492 * t);
-        X2 += 0.00000000007 * Math.cos(5.23512171216 + 18207.81398823521 * t);
-        X2 += 0.00000000006 * Math.cos(5.80443519678 + 105410.99449648599 * t);
-        X2 += 0.00000000007 * Math.cos(6.15999622470 + 51962.5071877104 * t);
-        X2 += 0.00000000008 * Math.cos(3.36914220367 + 44937.1306915484 * t);
-        X2 += 0.00000000006 * Math.cos(2.40284625703 + 129380.13377768178 * t);
-        X2 += 0.00000000005 * Math.cos(2.96155447733 + 88476.99497093359 * t);
-        X2 += 0.00000000005 * Math.cos(3.59127862190 + 25661.3049506982 * t);
-        X2 += 0.00000000006 * Math.cos(6.23825391056 + 52602.4044740244 * t);
-        X2 += 0.00000000006 * Math.cos(2.93043859466 + 78477.00852016058 * t);
-        X2 += 0.00000000006 * Math.cos(0.46188986304 + 108903.56606335558 * t);
-        X2 += 0.00000000005 * Math.cos(0.49574606925 + 33967.99229491319 * t);
-        X2 += 0.00000000005 * Math.cos(3.75441675157 + 81706.28436968799 * t);
-        X2 += 0.00000000005 * Math.cos(5.53673433934 + 94138.32702008578 * t);
-        X2 += 0.00000000005 * Math.cos(5.89664568761 + 57837.1383323006 * t);
-        X2 += 0.00000000005 * Math.cos(4.83027667513 + 74821.13447975718 * t);
-        X2 += 0.00000000007 * Math.cos(4.98545551601 + 71492.99882347698 * t);
-        X2 += 0.00000000007 * Math.cos(3.70894912583 + 78283.37918562238 * t);
-        X2 += 0.00000000005 * Math.cos(1.29964111137 + 51322.60990139639 * t);
-        X2 += 0.00000000005 * Math.cos(2.49074669996 + 68050.42387851159 * t);
-        X2 += 0.00000000006 * Math.cos(6.08348615777 + 10213.285546211 * t);
-        X2 += 0.00000000005 * Math.cos(3.82719391877 + 105460.99111839019 * t);
-        X2 += 0.00000000005 * Math.cos(0.35178516619 + 78259.82808936459 * t);
-        X2 += 0.00000000004 * Math.cos(1.30282358460 + 78256.59587772179 * t);
-        X2 += 0.00000000006 * Math.cos(5.44757978079 + 103292.23063610759 * t);
-        X2 += 0.00000000005 * Math.cos(5.27636599134 + 51749.20809227239 * t);
-        X2 += 0.00000000005 * Math.cos(0.22804238075 + 77734.01845962799 * t);
-        X2 += 0.00000000004 * Math.cos(6.06869194581 + 64607.84893354619 * t);
-        X2 += 0.00000000004 * Math.cos(4.12693153599 + 29416.03879785439 * t);
-        X2 += 0.00000000004 * Math.cos(1.53669349522 + 22759.76748529401 * t);
-        X2 += 0.00000000005 * Math.cos(1.44239228085 + 59414.4818747484 * t);
-        X2 += 0.00000000005 * Math.cos(5.48943391239 + 93028.94846799239 * t);
-        X2 += 0.00000000004 * Math.cos(0.83479952169 + 181505.94343892598 * t);
-        X2 += 0.00000000004 * Math.cos(3.69264490004 + 79852.78232000639 * t);
-        X2 += 0.00000000004 * Math.cos(0.34140382701 + 76144.94556434419 * t);
-        X2 += 0.00000000004 * Math.cos(0.76148268878 + 77204.32749453338 * t);
-        X2 += 0.00000000004 * Math.cos(5.49142516376 + 155468.03691925599 * t);
-        X2 += 0.00000000004 * Math.cos(2.40110600466 + 32370.9789915656 * t);
-        X2 += 0.00000000004 * Math.cos(0.77482738791 + 54509.0026760204 * t);
-        X2 += 0.00000000003 * Math.cos(3.42320644167 + 162188.75089859738 * t);
-        X2 += 0.00000000005 * Math.cos(5.60476147871 + 44181.27784112419 * t);
-        X2 += 0.00000000004 * Math.cos(0.72336948817 + 78270.82297172339 * t);
-        X2 += 0.00000000004 * Math.cos(4.12628804953 + 7880.08915333899 * t);
-        X2 += 0.00000000004 * Math.cos(3.98922640345 + 80482.46652890938 * t);
-        X2 += 0.00000000004 * Math.cos(5.74841518024 + 39743.7636327506 * t);
-        X2 += 0.00000000004 * Math.cos(5.69417470352 + 13521.7514415914 * t);
-        X2 += 0.00000000003 * Math.cos(1.56317795942 + 104331.94280539699 * t);
-        X2 += 0.00000000003 * Math.cos(4.88795554029 + 125887.56221081219 * t);
-        X2 += 0.00000000003 * Math.cos(3.38935474258 + 77623.81213840858 * t);
-        X2 += 0.00000000003 * Math.cos(3.77971209044 + 25448.00585526019 * t);
-        X2 += 0.00000000004 * Math.cos(4.09930467385 + 27311.72098235281 * t);
-        X2 += 0.00000000004 * Math.cos(1.56432035736 + 24864.08530079559 * t);
-        X2 += 0.00000000003 * Math.cos(2.27664811174 + 120226.23016165999 * t);
-        X2 += 0.00000000003 * Math.cos(1.92640543576 + 99799.65906923798 * t);
-        X2 += 0.00000000003 * Math.cos(5.32912761349 + 58458.88213313979 * t);
-        X2 += 0.00000000003 * Math.cos(5.99165196975 + 73711.75592766379 * t);
-        X2 += 0.00000000003 * Math.cos(4.31843145830 + 102132.85546210999 * t);
-        X2 += 0.00000000003 * Math.cos(3.24943700009 + 129483.91596626239 * t);
-        X2 += 0.00000000003 * Math.cos(1.49035567017 + 150866.08680029298 * t);
-        X2 += 0.00000000003 * Math.cos(5.13470741781 + 90829.86112470538 * t);
-        X2 += 0.00000000003 * Math.cos(2.71986865181 + 19804.8272915828 * t);
-        X2 += 0.00000000003 * Math.cos(2.81668831922 + 103821.92160120218 * t);
-        X2 += 0.00000000003 * Math.cos(5.20351790812 + 130969.20667296558 * t);
-        X2 += 0.00000000003 * Math.cos(0.52414566536 + 6283.0758499914 * t);
-        X2 += 0.00000000002 * Math.cos(1.60034178501 + 3328.13565628019 * t);
-        X2 += 0.00000000003 * Math.cos(1.19742120401 + 26941.0995233262 * t);
-        X2 += 0.00000000002 * Math.cos(2.52299718299 + 2648.454825473 * t);
-        X2 += 0.00000000003 * Math.cos(6.22248876679 + 71025.03383312259 * t);
-        X2 += 0.00000000002 * Math.cos(6.05228562355 + 114564.89811250778 * t);
-        X2 += 0.00000000002 * Math.cos(3.89856574340 + 78378.14871340781 * t);
-        X2 += 0.00000000003 * Math.cos(4.92249999513 + 104355.49390165479 * t);
-        X2 += 0.00000000002 * Math.cos(3.28730608507 + 365230.64398203876 * t);
-        X2 += 0.00000000003 * Math.cos(5.24274548309 + 52815.7035694624 * t);
-        X2 += 0.00000000002 * Math.cos(2.84424981131 + 77197.21394753258 * t);
-        X2 += 0.00000000002 * Math.cos(3.05496732731 + 78690.30761559859 * t);
-        X2 += 0.00000000002 * Math.cos(0.47881810383 + 104371.28232719658 * t);
-        X2 += 0.00000000002 * Math.cos(1.00755310729 + 23969.1392811958 * t);
-        X2 += 0.00000000002 * Math.cos(2.35946048456 + 77211.44104153418 * t);
-        X2 += 0.00000000002 * Math.cos(4.29749936450 + 104344.49901929598 * t);
-        X2 += 0.00000000002 * Math.cos(0.09271854750 + 41962.5207369374 * t);
-        X2 += 0.00000000002 * Math.cos(3.70310718037 + 78050.41032928458 * t);
-        X2 += 0.00000000002 * Math.cos(3.18110797568 + 25450.90686955 * t);
-        X2 += 0.00000000002 * Math.cos(2.48251705553 + 26724.8994135984 * t);
-        X2 += 0.00000000002 * Math.cos(1.75589608164 + 97580.90196505119 * t);
-        X2 += 0.00000000002 * Math.cos(6.11482656755 + 61279.713277266 * t);
-        X2 += 0.00000000002 * Math.cos(2.56963368887 + 131498.89763806018 * t);
-        X2 += 0.00000000002 * Math.cos(3.40296904568 + 18093.37469954999 * t);
-        X2 += 0.00000000002 * Math.cos(1.43340926720 + 78149.27013603736 * t);
-        X2 += 0.00000000002 * Math.cos(0.50955931589 + 107794.18751126219 * t);
-        X2 += 0.00000000002 * Math.cos(6.01648265545 + 104564.91166173479 * t);
-        X2 += 0.00000000002 * Math.cos(2.00949716011 + 44295.7171298094 * t);
-        X2 += 0.00000000002 * Math.cos(3.78855559110 + 104358.72611329758 * t);
-        X2 += 0.00000000002 * Math.cos(3.41504704768 + 104347.73123093879 * t);
-        X2 += 0.00000000002 * Math.cos(3.50069323104 + 134991.46920492979 * t);
-        X2 += 0.00000000002 * Math.cos(1.44523177132 + 54294.57014352679 * t);
-        X2 += 0.00000000001 * Math.cos(1.57614797452 + 151975.46535238638 * t);
-        X2 += 0.00000000002 * Math.cos(5.85569288704 + 27154.3986187642 * t);
-        X2 += 0.00000000002 * Math.cos(5.60379556548 + 129909.82474277639 * t);
-        X2 += 0.00000000001 * Math.cos(0.15538967236 + 131548.89425996438 * t);
-        X2 += 0.00000000001 * Math.cos(0.13924678529 + 117873.36400788819 * t);
-        X2 += 0.00000000001 * Math.cos(2.27107417680 + 181555.94006083018 * t);
-        X2 += 0.00000000001 * Math.cos(3.46531620032 + 91785.46086631398 * t);
-        X2 += 0.00000000001 * Math.cos(0.05177929477 + 27140.17152476259 * t);
-        X2 += 0.00000000001 * Math.cos(1.89455753690 + 84546.78527471398 * t);
-        X2 += 0.00000000001 * Math.cos(0.93976716900 + 55503.94193942859 * t);
-        X2 += 0.00000000001 * Math.cos(5.89766230280 + 103285.11708910679 * t);
-        X2 += 0.00000000001 * Math.cos(0.58625817603 + 98068.53671630539 * t);
-        X2 += 0.00000000001 * Math.cos(3.67344922340 + 105307.21230790539 * t);
-        X2 += 0.00000000001 * Math.cos(1.75668234959 + 49842.60989027639 * t);
-        X2 += 0.00000000001 * Math.cos(0.18883482364 + 188276.65404017158 * t);
-        X2 += 0.00000000001 * Math.cos(5.33421434440 + 146314.13330323418 * t);
-        X2 += 0.00000000001 * Math.cos(4.05364019654 + 65697.55772473979 * t);
-        X2 += 0.00000000001 * Math.cos(2.87996568466 + 39629.32434406539 * t);
-        X2 += 0.00000000001 * Math.cos(2.78365934655 + 12546.481939083 * t);
-        X2 += 0.00000000001 * Math.cos(0.84435710644 + 26080.78959457339 * t);
-        X2 += 0.00000000001 * Math.cos(4.96226105388 + 29428.515568274 * t);
-        X2 += 0.00000000001 * Math.cos(0.70136397733 + 22747.2907148744 * t);
-        X2 += 0.00000000001 * Math.cos(4.58859350492 + 48847.6706268682 * t);
-        X2 += 0.00000000001 * Math.cos(2.16941361108 + 119116.85160956658 * t);
-        X2 += 0.00000000001 * Math.cos(2.45852813929 + 25021.4076643842 * t);
-        X2 += 0.00000000001 * Math.cos(0.34446508161 + 26107.57290247399 * t);
-        X2 += 0.00000000001 * Math.cos(1.69190197378 + 26068.2333806744 * t);
-        X2 += 0.00000000001 * Math.cos(1.12310082033 + 106570.36967048359 * t);
-        X2 += 0.00000000001 * Math.cos(2.51649409144 + 65831.6667743248 * t);
-        X2 += 0.00000000001 * Math.cos(0.40144081264 + 105940.68546158058 * t);
-        X2 += 0.00000000001 * Math.cos(0.86957384492 + 53399.624123927 * t);
-        X2 += 0.00000000001 * Math.cos(1.17409480348 + 26095.016688575 * t);
-        X2 += 0.00000000001 * Math.cos(3.82636106300 + 80596.9058175946 * t);
-        X2 += 0.00000000001 * Math.cos(6.22213633631 + 85034.42002596818 * t);
-        X2 += 0.00000000001 * Math.cos(3.81096263298 + 71980.63357473118 * t);
-        X2 += 0.00000000001 * Math.cos(3.53258568663 + 60055.89543648739 * t);
-        X2 += 0.00000000001 * Math.cos(5.03983679522 + 26091.7844769322 * t);
-        X2 += 0.00000000001 * Math.cos(1.78390992735 + 116917.76426627958 * t);
-        X2 += 0.00000000001 * Math.cos(3.13743037240 + 49527.35145767539 * t);
-        X2 += 0.00000000001 * Math.cos(5.15447176594 + 10021.8372800994 * t);
-        X2 += 0.00000000001 * Math.cos(3.66133486835 + 52643.7712735028 * t);
-        X2 += 0.00000000001 * Math.cos(3.49839180322 + 85502.38501632259 * t);
-        X2 += 0.00000000001 * Math.cos(3.27557007032 + 26084.0218062162 * t);
-        X2 += 0.00000000001 * Math.cos(4.42760145944 + 77410.51304297059 * t);
-        X2 += 0.00000000001 * Math.cos(5.34025826757 + 35472.7441496494 * t);
-        X2 += 0.00000000001 * Math.cos(0.32336676364 + 16703.062133499 * t);
-        X2 += 0.00000000001 * Math.cos(0.29031592817 + 86143.79857806159 * t);
-        X2 += 0.00000000001 * Math.cos(0.51202513196 + 42153.969003049 * t);
-        X2 += 0.00000000001 * Math.cos(5.64798496540 + 51123.53789995999 * t);
-        X2 += 0.00000000001 * Math.cos(3.41816609617 + 102762.53967101299 * t);
-        X2 += 0.00000000001 * Math.cos(2.14800633151 + 95247.70557217918 * t);
-        X2 += 0.00000000001 * Math.cos(1.88367237285 + 25035.6347583858 * t);
-        X2 += 0.00000000001 * Math.cos(5.42434479910 + 103299.34418310839 * t);
-        X2 += 0.00000000000 * Math.cos(4.45904714857 + 45892.73043315699 * t);
-        X2 += 0.00000000001 * Math.cos(6.03041944713 + 7.1135470008 * t);
-        X2 += 0.00000000000 * Math.cos(3.24985330908 + 111122.32316754239 * t);
-        X2 += 0.00000000000 * Math.cos(5.89247671933 + 116783.65521669458 * t);
-        X2 += 0.00000000000 * Math.cos(0.08006879030 + 1066.49547719 * t);
-        X2 += 0.00000000000 * Math.cos(3.14877511767 + 102232.84870591838 * t);
-        X2 += 0.00000000000 * Math.cos(5.43291689345 + 77829.99768684579 * t);
-        X2 += 0.00000000000 * Math.cos(6.05247716942 + 25654.19140369739 * t);
-        X2 += 0.00000000000 * Math.cos(2.64981425141 + 53242.3017603384 * t);
-        X2 += 0.00000000000 * Math.cos(2.55379191250 + 52329.58509363319 * t);
-        X2 += 0.00000000000 * Math.cos(0.09283328239 + 89586.37352302698 * t);
-        X2 += 0.00000000000 * Math.cos(1.84786865421 + 25234.70675982219 * t);
-        X2 += 0.00000000000 * Math.cos(2.90052187589 + 97112.93697469679 * t);
-        X2 += 0.00000000000 * Math.cos(4.61352864146 + 130419.8459469712 * t);
-        X2 += 0.00000000000 * Math.cos(3.88771739364 + 207593.84658050018 * t);
-        X2 += 0.00000000000 * Math.cos(2.04823124840 + 78903.60671103658 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 54 terms of order 3
-    {
-        double X3 = 0;
-        X3 -= 0.00000046252;
-        X3 += 0.00000017461 * Math.cos(5.90570575226 + 78263.70942472259 * t);
-        X3 += 0.00000014855 * Math.cos(2.98081270061 + 52175.8062831484 * t);
-        X3 += 0.00000010499 * Math.cos(2.65555597352 + 104351.61256629678 * t);
-        X3 += 0.00000006474 * Math.cos(3.10442611992 + 26087.9031415742 * t);
-        X3 += 0.00000004906 * Math.cos(5.70235297811 + 130439.51570787099 * t);
-        X3 += 0.00000002012 * Math.cos(2.46917870918 + 156527.41884944518 * t);
-        X3 += 0.00000000762 * Math.cos(5.52012723644 + 182615.32199101939 * t);
-        X3 += 0.00000000274 * Math.cos(2.28815108376 + 208703.22513259358 * t);
-        X3 += 0.00000000095 * Math.cos(5.33930475465 + 234791.12827416777 * t);
-        X3 += 0.00000000032 * Math.cos(2.10881559249 + 260879.03141574195 * t);
-        X3 += 0.00000000022 * Math.cos(2.85958066164 + 51066.427731055 * t);
-        X3 += 0.00000000013 * Math.cos(5.91413101289 + 77154.33087262919 * t);
-        X3 += 0.00000000011 * Math.cos(5.83933103010 + 53285.1848352418 * t);
-        X3 += 0.00000000010 * Math.cos(5.15754613710 + 286966.93455731616 * t);
-        X3 += 0.00000000006 * Math.cos(2.68531623603 + 103242.23401420339 * t);
-        X3 += 0.00000000004 * Math.cos(2.63984308882 + 79373.08797681599 * t);
-        X3 += 0.00000000003 * Math.cos(1.92882196964 + 313054.83769889036 * t);
-        X3 += 0.00000000002 * Math.cos(5.74038187507 + 129330.13715577759 * t);
-        X3 += 0.00000000002 * Math.cos(0.30227695595 + 46514.4742339962 * t);
-        X3 += 0.00000000001 * Math.cos(3.30055357539 + 72602.37737557039 * t);
-        X3 += 0.00000000001 * Math.cos(2.98533044655 + 1109.3785520934 * t);
-        X3 += 0.00000000001 * Math.cos(5.48949174205 + 51220.20654153979 * t);
-        X3 += 0.00000000001 * Math.cos(4.41669314602 + 53235.18821333759 * t);
-        X3 += 0.00000000001 * Math.cos(0.98973080298 + 52705.49724824299 * t);
-        X3 += 0.00000000001 * Math.cos(0.09996351935 + 98690.28051714458 * t);
-        X3 += 0.00000000001 * Math.cos(1.39499754575 + 27147.28507176339 * t);
-        X3 += 0.00000000001 * Math.cos(2.15405026353 + 77308.10968311399 * t);
-        X3 += 0.00000000001 * Math.cos(5.60478475476 + 30639.856638633 * t);
-        X3 += 0.00000000001 * Math.cos(2.92719149168 + 49957.0491789616 * t);
-        X3 += 0.00000000001 * Math.cos(2.85009909224 + 53131.406024757 * t);
-        X3 += 0.00000000001 * Math.cos(4.09987056849 + 40853.142184844 * t);
-        X3 += 0.00000000001 * Math.cos(4.98078848335 + 339142.74084046457 * t);
-        X3 += 0.00000000001 * Math.cos(5.36230089957 + 56727.7597802072 * t);
-        X3 += 0.00000000001 * Math.cos(5.71989825863 + 105460.99111839019 * t);
-        X3 += 0.00000000001 * Math.cos(2.51473977978 + 155418.04029735178 * t);
-        X3 += 0.00000000001 * Math.cos(1.04369278317 + 25028.521211385 * t);
-        X3 += 0.00000000001 * Math.cos(4.01223445079 + 78793.40038981718 * t);
-        X3 += 0.00000000001 * Math.cos(1.01751150860 + 79323.09135491178 * t);
-        X3 += 0.00000000000 * Math.cos(1.30980510467 + 51646.11531805379 * t);
-        X3 += 0.00000000000 * Math.cos(2.55596806448 + 27676.976036858 * t);
-        X3 += 0.00000000001 * Math.cos(2.24540131361 + 24978.5245894808 * t);
-        X3 += 0.00000000001 * Math.cos(5.75115503305 + 54394.56338733519 * t);
-        X3 += 0.00000000000 * Math.cos(0.38100437824 + 45405.0956819028 * t);
-        X3 += 0.00000000000 * Math.cos(2.12401299269 + 82815.66292178139 * t);
-        X3 += 0.00000000000 * Math.cos(2.55683513716 + 27197.2816936676 * t);
-        X3 += 0.00000000000 * Math.cos(2.64992114042 + 4551.9534970588 * t);
-        X3 += 0.00000000000 * Math.cos(0.83114621691 + 20426.571092422 * t);
-        X3 += 0.00000000000 * Math.cos(5.51088661461 + 5661.3320491522 * t);
-        X3 += 0.00000000000 * Math.cos(5.92904258214 + 76674.63652943878 * t);
-        X3 += 0.00000000000 * Math.cos(0.30779797419 + 24498.8302462904 * t);
-        X3 += 0.00000000000 * Math.cos(0.88049716681 + 66941.04532641819 * t);
-        X3 += 0.00000000000 * Math.cos(3.47000316143 + 23869.1460373874 * t);
-        X3 += 0.00000000000 * Math.cos(5.99203553905 + 76044.9523205358 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 15 terms of order 4
-    {
-        double X4 = 0;
-        X4 -= 0.00000000396;
-        X4 += 0.00000000277 * Math.cos(4.46911521792 + 78263.70942472259 * t);
-        X4 += 0.00000000233 * Math.cos(1.15859255567 + 104351.61256629678 * t);
-        X4 += 0.00000000175 * Math.cos(1.69697731540 + 52175.8062831484 * t);
-        X4 += 0.00000000142 * Math.cos(4.18294832661 + 130439.51570787099 * t);
-        X4 += 0.00000000072 * Math.cos(0.93996426089 + 156527.41884944518 * t);
-        X4 += 0.00000000034 * Math.cos(2.12555294236 + 26087.9031415742 * t);
-        X4 += 0.00000000032 * Math.cos(3.98624643079 + 182615.32199101939 * t);
-        X4 += 0.00000000014 * Math.cos(0.75012775830 + 208703.22513259358 * t);
-        X4 += 0.00000000005 * Math.cos(3.79721330106 + 234791.12827416777 * t);
-        X4 += 0.00000000002 * Math.cos(0.56145150603 + 260879.03141574195 * t);
-        X4 += 0.00000000001 * Math.cos(3.61220093194 + 286966.93455731616 * t);
-        X4 += 0.00000000000 * Math.cos(4.34124968448 + 77154.33087262919 * t);
-        X4 += 0.00000000000 * Math.cos(1.17335789419 + 51066.427731055 * t);
-        X4 += 0.00000000000 * Math.cos(4.21582355257 + 53285.1848352418 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 10 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000000010;
-        X5 += 0.00000000004 * Math.cos(5.91649200666 + 104351.61256629678 * t);
-        X5 += 0.00000000004 * Math.cos(2.83757947000 + 78263.70942472259 * t);
-        X5 += 0.00000000003 * Math.cos(2.66817005051 + 130439.51570787099 * t);
-        X5 += 0.00000000003 * Math.cos(5.15477008535 + 52175.8062831484 * t);
-        X5 += 0.00000000002 * Math.cos(5.69794729891 + 156527.41884944518 * t);
-        X5 += 0.00000000002 * Math.cos(6.20347759900 + 26087.9031415742 * t);
-        X5 += 0.00000000001 * Math.cos(2.45874789246 + 182615.32199101939 * t);
-        X5 += 0.00000000001 * Math.cos(5.48978296351 + 208703.22513259358 * t);
-        X5 += 0.00000000000 * Math.cos(2.24360021689 + 234791.12827416777 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1438 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 0.37953642888 * Math.cos(2.83780617820 + 26087.9031415742 * t);
-        Y0 -= 0.11626131831;
-        Y0 += 0.03854668215 * Math.cos(5.88780608966 + 52175.8062831484 * t);
-        Y0 += 0.00587711268 * Math.cos(2.65498896201 + 78263.70942472259 * t);
-        Y0 += 0.00106235493 * Math.cos(5.70550616735 + 104351.61256629678 * t);
-        Y0 += 0.00021100828 * Math.cos(2.47291315849 + 130439.51570787099 * t);
-        Y0 += 0.00004450056 * Math.cos(5.52354907071 + 156527.41884944518 * t);
-        Y0 += 0.00000978286 * Math.cos(2.29102643026 + 182615.32199101939 * t);
-        Y0 += 0.00000707500 * Math.cos(2.89516591531 + 24978.5245894808 * t);
-        Y0 += 0.00000654742 * Math.cos(5.92892123881 + 27197.2816936676 * t);
-        Y0 += 0.00000448561 * Math.cos(1.40595042211 + 1059.3819301892 * t);
-        Y0 += 0.00000402168 * Math.cos(0.30317998006 + 20426.571092422 * t);
-        Y0 += 0.00000290604 * Math.cos(2.23645868392 + 31749.2351907264 * t);
-        Y0 += 0.00000191358 * Math.cos(2.70792842547 + 53285.1848352418 * t);
-        Y0 += 0.00000181119 * Math.cos(0.23941291054 + 1109.3785520934 * t);
-        Y0 += 0.00000193372 * Math.cos(5.38698781997 + 4551.9534970588 * t);
-        Y0 += 0.00000221718 * Math.cos(5.34170676570 + 208703.22513259358 * t);
-        Y0 += 0.00000139514 * Math.cos(5.94698662319 + 51066.427731055 * t);
-        Y0 += 0.00000154924 * Math.cos(1.12201865761 + 51116.4243529592 * t);
-        Y0 += 0.00000177242 * Math.cos(2.78855813429 + 5661.3320491522 * t);
-        Y0 += 0.00000116072 * Math.cos(5.28608170116 + 57837.1383323006 * t);
-        Y0 += 0.00000081399 * Math.cos(3.50862797958 + 21535.9496445154 * t);
-        Y0 += 0.00000086595 * Math.cos(5.06999843254 + 529.6909650946 * t);
-        Y0 += 0.00000075457 * Math.cos(4.50396814445 + 27147.28507176339 * t);
-        Y0 += 0.00000075078 * Math.cos(3.36291170975 + 46514.4742339962 * t);
-        Y0 += 0.00000069045 * Math.cos(4.92160428335 + 25132.3033999656 * t);
-        Y0 += 0.00000063460 * Math.cos(3.91239075334 + 27043.5028831828 * t);
-        Y0 += 0.00000083250 * Math.cos(1.60127885818 + 10213.285546211 * t);
-        Y0 += 0.00000058160 * Math.cos(4.13677602210 + 14765.2390432698 * t);
-        Y0 += 0.00000061405 * Math.cos(3.43747372432 + 47623.8527860896 * t);
-        Y0 += 0.00000054050 * Math.cos(0.72631991357 + 26617.5941066688 * t);
-        Y0 += 0.00000055113 * Math.cos(3.74298611127 + 12566.1516999828 * t);
-        Y0 += 0.00000052556 * Math.cos(1.98636705426 + 25558.2121764796 * t);
-        Y0 += 0.00000047932 * Math.cos(5.76195364026 + 79373.08797681599 * t);
-        Y0 += 0.00000051303 * Math.cos(1.96782292508 + 426.598190876 * t);
-        Y0 += 0.00000051435 * Math.cos(2.10921381130 + 234791.12827416777 * t);
-        Y0 += 0.00000048521 * Math.cos(1.95016897012 + 1589.0728952838 * t);
-        Y0 += 0.00000049166 * Math.cos(4.17094551348 + 77204.32749453338 * t);
-        Y0 += 0.00000035132 * Math.cos(4.11987679873 + 51646.11531805379 * t);
-        Y0 += 0.00000035814 * Math.cos(4.73966512079 + 37410.5672398786 * t);
-        Y0 += 0.00000032754 * Math.cos(4.57352694115 + 955.5997416086 * t);
-        Y0 += 0.00000045435 * Math.cos(0.91835136158 + 41962.5207369374 * t);
-        Y0 += 0.00000028902 * Math.cos(5.43922975997 + 30639.856638633 * t);
-        Y0 += 0.00000031572 * Math.cos(2.71470274369 + 77154.33087262919 * t);
-        Y0 += 0.00000032251 * Math.cos(2.05357225780 + 83925.04147387479 * t);
-        Y0 += 0.00000028206 * Math.cos(5.07338603494 + 39609.6545831656 * t);
-        Y0 += 0.00000026848 * Math.cos(5.25320670297 + 11322.6640983044 * t);
-        Y0 += 0.00000027077 * Math.cos(4.69298133865 + 36301.18868778519 * t);
-        Y0 += 0.00000022896 * Math.cos(0.71333836963 + 53131.406024757 * t);
-        Y0 += 0.00000026742 * Math.cos(0.17305422750 + 6283.0758499914 * t);
-        Y0 += 0.00000021009 * Math.cos(4.08684580221 + 15874.6175953632 * t);
-        Y0 += 0.00000016503 * Math.cos(0.13257325259 + 72602.37737557039 * t);
-        Y0 += 0.00000016125 * Math.cos(1.65667771920 + 9103.9069941176 * t);
-        Y0 += 0.00000021011 * Math.cos(5.65119092880 + 13521.7514415914 * t);
-        Y0 += 0.00000021301 * Math.cos(0.20534560769 + 73711.75592766379 * t);
-        Y0 += 0.00000015173 * Math.cos(1.24810995296 + 18849.2275499742 * t);
-        Y0 += 0.00000017483 * Math.cos(0.56186392439 + 51749.20809227239 * t);
-        Y0 += 0.00000017112 * Math.cos(0.55137156527 + 50586.73338786459 * t);
-        Y0 += 0.00000013891 * Math.cos(1.29665748792 + 53235.18821333759 * t);
-        Y0 += 0.00000015079 * Math.cos(1.97879118551 + 7238.67559160 * t);
-        Y0 += 0.00000013631 * Math.cos(3.65214684654 + 52705.49724824299 * t);
-        Y0 += 0.00000014545 * Math.cos(1.48385300876 + 63498.47038145279 * t);
-        Y0 += 0.00000012963 * Math.cos(4.18911929952 + 25028.521211385 * t);
-        Y0 += 0.00000013152 * Math.cos(0.21408490669 + 26068.2333806744 * t);
-        Y0 += 0.00000013131 * Math.cos(2.31994193470 + 26107.57290247399 * t);
-        Y0 += 0.00000013657 * Math.cos(1.69271280727 + 51220.20654153979 * t);
-        Y0 += 0.00000013598 * Math.cos(0.93759628331 + 103292.23063610759 * t);
-        Y0 += 0.00000011751 * Math.cos(1.43132876728 + 33326.5787331742 * t);
-        Y0 += 0.00000012154 * Math.cos(5.15990276384 + 260879.03141574195 * t);
-        Y0 += 0.00000011477 * Math.cos(0.41407124478 + 19317.1925403286 * t);
-        Y0 += 0.00000010236 * Math.cos(0.82838354702 + 77734.01845962799 * t);
-        Y0 += 0.00000012081 * Math.cos(3.96948779355 + 68050.42387851159 * t);
-        Y0 += 0.00000012108 * Math.cos(2.53182219980 + 105460.99111839019 * t);
-        Y0 += 0.00000009243 * Math.cos(0.91470178389 + 40853.142184844 * t);
-        Y0 += 0.00000009577 * Math.cos(0.54300980490 + 38654.05484155699 * t);
-        Y0 += 0.00000012617 * Math.cos(2.32903972631 + 45892.73043315699 * t);
-        Y0 += 0.00000009024 * Math.cos(3.62265462866 + 26091.7844769322 * t);
-        Y0 += 0.00000009026 * Math.cos(5.19456413590 + 26084.0218062162 * t);
-        Y0 += 0.00000012253 * Math.cos(1.84260347906 + 65697.55772473979 * t);
-        Y0 += 0.00000008921 * Math.cos(2.21279123795 + 32858.61374281979 * t);
-        Y0 += 0.00000008903 * Math.cos(5.05278309499 + 26514.5013324502 * t);
-        Y0 += 0.00000008904 * Math.cos(5.46086574052 + 3442.5749449654 * t);
-        Y0 += 0.00000008277 * Math.cos(0.97930362795 + 43071.8992890308 * t);
-        Y0 += 0.00000008532 * Math.cos(5.10423076286 + 110012.94461544899 * t);
-        Y0 += 0.00000008865 * Math.cos(3.30085475170 + 32370.9789915656 * t);
-        Y0 += 0.00000007700 * Math.cos(2.17157469442 + 56727.7597802072 * t);
-        Y0 += 0.00000008182 * Math.cos(5.04279721089 + 27676.976036858 * t);
-        Y0 += 0.00000007388 * Math.cos(2.71311941898 + 6770.7106012456 * t);
-        Y0 += 0.00000008021 * Math.cos(5.76384193035 + 213.299095438 * t);
-        Y0 += 0.00000006447 * Math.cos(1.30219534399 + 16983.9961474566 * t);
-        Y0 += 0.00000007443 * Math.cos(2.98224053647 + 23869.1460373874 * t);
-        Y0 += 0.00000006952 * Math.cos(3.42284499782 + 22645.32819660879 * t);
-        Y0 += 0.00000006607 * Math.cos(5.48986631078 + 19804.8272915828 * t);
-        Y0 += 0.00000006015 * Math.cos(1.47698341146 + 62389.09182935939 * t);
-        Y0 += 0.00000006309 * Math.cos(4.44334031620 + 59414.4818747484 * t);
-        Y0 += 0.00000005925 * Math.cos(3.77454325940 + 79219.30916633119 * t);
-        Y0 += 0.00000007571 * Math.cos(5.76555894291 + 103242.23401420339 * t);
-        Y0 += 0.00000006092 * Math.cos(3.25705731504 + 99799.65906923798 * t);
-        Y0 += 0.00000006562 * Math.cos(5.86248316518 + 28306.66024576099 * t);
-        Y0 += 0.00000006285 * Math.cos(1.17813289842 + 639.897286314 * t);
-        Y0 += 0.00000005895 * Math.cos(3.66873787385 + 25874.6040461362 * t);
-        Y0 += 0.00000005168 * Math.cos(5.05804995902 + 26301.2022370122 * t);
-        Y0 += 0.00000004714 * Math.cos(2.54429045075 + 26095.016688575 * t);
-        Y0 += 0.00000004577 * Math.cos(0.02129879069 + 26080.78959457339 * t);
-        Y0 += 0.00000005517 * Math.cos(3.60620866320 + 76674.63652943878 * t);
-        Y0 += 0.00000003908 * Math.cos(3.18519537351 + 98690.28051714458 * t);
-        Y0 += 0.00000005385 * Math.cos(3.61083679851 + 77837.11123384659 * t);
-        Y0 += 0.00000003644 * Math.cos(3.98783714230 + 129380.13377768178 * t);
-        Y0 += 0.00000003338 * Math.cos(0.38724993766 + 78793.40038981718 * t);
-        Y0 += 0.00000003316 * Math.cos(5.12183457548 + 58946.51688439399 * t);
-        Y0 += 0.00000003962 * Math.cos(5.48363213369 + 29530.4780865396 * t);
-        Y0 += 0.00000004028 * Math.cos(2.49396327752 + 2118.7638603784 * t);
-        Y0 += 0.00000003629 * Math.cos(4.89385319464 + 91785.46086631398 * t);
-        Y0 += 0.00000003068 * Math.cos(4.35775545042 + 79323.09135491178 * t);
-        Y0 += 0.00000003499 * Math.cos(5.38046448626 + 71980.63357473118 * t);
-        Y0 += 0.00000003105 * Math.cos(0.73732898186 + 94138.32702008578 * t);
-        Y0 += 0.00000002915 * Math.cos(1.92745964306 + 286966.93455731616 * t);
-        Y0 += 0.00000003797 * Math.cos(4.52469688488 + 89586.37352302698 * t);
-        Y0 += 0.00000002737 * Math.cos(4.31987616717 + 44937.1306915484 * t);
-        Y0 += 0.00000002736 * Math.cos(3.85841365012 + 103821.92160120218 * t);
-        Y0 += 0.00000002692 * Math.cos(3.89664472121 + 69159.80243060499 * t);
-        Y0 += 0.00000002670 * Math.cos(3.26411796271 + 52156.1365222486 * t);
-        Y0 += 0.00000003234 * Math.cos(0.15700821776 + 2218.7571041868 * t);
-        Y0 += 0.00000002946 * Math.cos(3.91413787998 + 25661.3049506982 * t);
-        Y0 += 0.00000003275 * Math.cos(1.14799205324 + 25934.1243310894 * t);
-        Y0 += 0.00000003246 * Math.cos(1.38661008976 + 26241.681952059 * t);
-        Y0 += 0.00000002559 * Math.cos(3.49987927726 + 48733.23133818299 * t);
-        Y0 += 0.00000003095 * Math.cos(4.74440359796 + 77308.10968311399 * t);
-        Y0 += 0.00000003103 * Math.cos(5.58481290362 + 131548.89425996438 * t);
-        Y0 += 0.00000002736 * Math.cos(4.90415740433 + 149.5631971346 * t);
-        Y0 += 0.00000002487 * Math.cos(1.54879706016 + 1052.2683831884 * t);
-        Y0 += 0.00000002690 * Math.cos(5.37064066297 + 52195.47604404819 * t);
-        Y0 += 0.00000002237 * Math.cos(1.87187835709 + 136100.84775702319 * t);
-        Y0 += 0.00000001979 * Math.cos(3.60257646907 + 64741.95798313119 * t);
-        Y0 += 0.00000002537 * Math.cos(4.45007627900 + 1066.49547719 * t);
-        Y0 += 0.00000001955 * Math.cos(0.11915602691 + 58458.88213313979 * t);
-        Y0 += 0.00000001882 * Math.cos(5.21113955797 + 82815.66292178139 * t);
-        Y0 += 0.00000001838 * Math.cos(0.38908718331 + 52179.6876185064 * t);
-        Y0 += 0.00000001842 * Math.cos(3.96594806805 + 66941.04532641819 * t);
-        Y0 += 0.00000001788 * Math.cos(0.37792450541 + 25619.9381512198 * t);
-        Y0 += 0.00000001833 * Math.cos(1.96136353630 + 52171.9249477904 * t);
-        Y0 += 0.00000002202 * Math.cos(2.59644390666 + 54394.56338733519 * t);
-        Y0 += 0.00000001723 * Math.cos(2.15586269154 + 26555.8681319286 * t);
-        Y0 += 0.00000002138 * Math.cos(1.35105904779 + 51535.90899683439 * t);
-        Y0 += 0.00000001978 * Math.cos(3.47172854103 + 45405.0956819028 * t);
-        Y0 += 0.00000001647 * Math.cos(1.83531703242 + 52602.4044740244 * t);
-        Y0 += 0.00000001665 * Math.cos(2.25971262112 + 5327.4761083828 * t);
-        Y0 += 0.00000001935 * Math.cos(4.21959122354 + 13655.8604911764 * t);
-        Y0 += 0.00000001817 * Math.cos(0.28147419437 + 7.1135470008 * t);
-        Y0 += 0.00000001660 * Math.cos(0.02502133169 + 125887.56221081219 * t);
-        Y0 += 0.00000001521 * Math.cos(1.83104073509 + 53764.8791784322 * t);
-        Y0 += 0.00000001874 * Math.cos(2.53319058791 + 129330.13715577759 * t);
-        Y0 += 0.00000001692 * Math.cos(2.75833415261 + 52168.69273614759 * t);
-        Y0 += 0.00000001454 * Math.cos(4.53754269661 + 88476.99497093359 * t);
-        Y0 += 0.00000001657 * Math.cos(4.55762528747 + 76.2660712756 * t);
-        Y0 += 0.00000001539 * Math.cos(0.55256735058 + 105307.21230790539 * t);
-        Y0 += 0.00000001549 * Math.cos(0.39789620728 + 102762.53967101299 * t);
-        Y0 += 0.00000001408 * Math.cos(2.83687387786 + 26094.53170047421 * t);
-        Y0 += 0.00000001408 * Math.cos(5.98015898835 + 26081.27458267419 * t);
-        Y0 += 0.00000001420 * Math.cos(6.03495956591 + 49957.0491789616 * t);
-        Y0 += 0.00000001561 * Math.cos(1.18454524473 + 85502.38501632259 * t);
-        Y0 += 0.00000001272 * Math.cos(2.51538497151 + 51962.5071877104 * t);
-        Y0 += 0.00000001469 * Math.cos(0.37777284264 + 103925.01437542078 * t);
-        Y0 += 0.00000001565 * Math.cos(6.24937013327 + 6681.2248533996 * t);
-        Y0 += 0.00000001264 * Math.cos(4.66222164975 + 35191.8101356918 * t);
-        Y0 += 0.00000001342 * Math.cos(4.75750445244 + 38519.945791972 * t);
-        Y0 += 0.00000001441 * Math.cos(6.24581101364 + 50057.04242277 * t);
-        Y0 += 0.00000001556 * Math.cos(1.87102996187 + 52389.1053785864 * t);
-        Y0 += 0.00000001106 * Math.cos(5.15222384273 + 12432.0426503978 * t);
-        Y0 += 0.00000001243 * Math.cos(5.56004522021 + 52182.9198301492 * t);
-        Y0 += 0.00000001072 * Math.cos(4.25942542568 + 26727.8004278882 * t);
-        Y0 += 0.00000000967 * Math.cos(0.75487021033 + 155468.03691925599 * t);
-        Y0 += 0.00000000997 * Math.cos(1.66157901963 + 117873.36400788819 * t);
-        Y0 += 0.00000000937 * Math.cos(2.00054583710 + 85034.42002596818 * t);
-        Y0 += 0.00000000960 * Math.cos(6.23663722276 + 124778.18365871879 * t);
-        Y0 += 0.00000000913 * Math.cos(2.14759141886 + 98068.53671630539 * t);
-        Y0 += 0.00000000837 * Math.cos(0.48875422450 + 46848.3301747656 * t);
-        Y0 += 0.00000000832 * Math.cos(3.42202735905 + 104881.30353139139 * t);
-        Y0 += 0.00000000864 * Math.cos(0.97123767041 + 51123.53789995999 * t);
-        Y0 += 0.00000000797 * Math.cos(3.78730285311 + 120226.23016165999 * t);
-        Y0 += 0.00000000923 * Math.cos(3.90587740343 + 52026.2430860138 * t);
-        Y0 += 0.00000000938 * Math.cos(1.28285332683 + 115674.27666460119 * t);
-        Y0 += 0.00000000746 * Math.cos(0.02765328657 + 74821.13447975718 * t);
-        Y0 += 0.00000000936 * Math.cos(2.24023772681 + 55618.3812281138 * t);
-        Y0 += 0.00000000804 * Math.cos(2.35412750829 + 157636.79740153858 * t);
-        Y0 += 0.00000000708 * Math.cos(4.97835058075 + 313054.83769889036 * t);
-        Y0 += 0.00000000726 * Math.cos(1.13072864457 + 105410.99449648599 * t);
-        Y0 += 0.00000000875 * Math.cos(4.36192286909 + 51109.31080595839 * t);
-        Y0 += 0.00000000719 * Math.cos(0.61492825170 + 129909.82474277639 * t);
-        Y0 += 0.00000000703 * Math.cos(5.24980293056 + 419.4846438752 * t);
-        Y0 += 0.00000000742 * Math.cos(4.43954042629 + 3340.6124266998 * t);
-        Y0 += 0.00000000675 * Math.cos(5.58413863440 + 28206.6670019526 * t);
-        Y0 += 0.00000000650 * Math.cos(0.63237258720 + 95247.70557217918 * t);
-        Y0 += 0.00000000610 * Math.cos(0.03146551062 + 78244.0396638228 * t);
-        Y0 += 0.00000000663 * Math.cos(4.19794322902 + 52022.0274726636 * t);
-        Y0 += 0.00000000602 * Math.cos(0.71110689228 + 20760.4270331914 * t);
-        Y0 += 0.00000000639 * Math.cos(5.76187724040 + 80482.46652890938 * t);
-        Y0 += 0.00000000743 * Math.cos(1.51241001220 + 103396.01282468818 * t);
-        Y0 += 0.00000000586 * Math.cos(4.92207524971 + 162188.75089859738 * t);
-        Y0 += 0.00000000731 * Math.cos(1.85044743030 + 433.7117378768 * t);
-        Y0 += 0.00000000592 * Math.cos(1.09214531526 + 71025.03383312259 * t);
-        Y0 += 0.00000000551 * Math.cos(3.29395183970 + 23754.70674870219 * t);
-        Y0 += 0.00000000526 * Math.cos(0.65987913797 + 10021.8372800994 * t);
-        Y0 += 0.00000000677 * Math.cos(4.43410327506 + 52329.58509363319 * t);
-        Y0 += 0.00000000666 * Math.cos(4.40151837219 + 77623.81213840858 * t);
-        Y0 += 0.00000000644 * Math.cos(2.58708081761 + 45494.58142974879 * t);
-        Y0 += 0.00000000596 * Math.cos(1.74322610176 + 7994.5284420242 * t);
-        Y0 += 0.00000000558 * Math.cos(4.25198337310 + 52099.5402118728 * t);
-        Y0 += 0.00000000467 * Math.cos(3.18899512617 + 84546.78527471398 * t);
-        Y0 += 0.00000000464 * Math.cos(3.48448266155 + 24498.8302462904 * t);
-        Y0 += 0.00000000555 * Math.cos(0.82693925421 + 1692.1656695024 * t);
-        Y0 += 0.00000000471 * Math.cos(1.72510786190 + 26237.46633870879 * t);
-        Y0 += 0.00000000456 * Math.cos(0.37602833213 + 90829.86112470538 * t);
-        Y0 += 0.00000000617 * Math.cos(2.13813397736 + 78283.37918562238 * t);
-        Y0 += 0.00000000442 * Math.cos(4.70125751809 + 27140.17152476259 * t);
-        Y0 += 0.00000000445 * Math.cos(3.07523267609 + 151975.46535238638 * t);
-        Y0 += 0.00000000473 * Math.cos(5.58382968969 + 155418.04029735178 * t);
-        Y0 += 0.00000000470 * Math.cos(1.97509785099 + 108903.56606335558 * t);
-        Y0 += 0.00000000449 * Math.cos(5.76009397500 + 78256.59587772179 * t);
-        Y0 += 0.00000000592 * Math.cos(0.36143126121 + 853.196381752 * t);
-        Y0 += 0.00000000459 * Math.cos(0.44821212178 + 26037.90651966999 * t);
-        Y0 += 0.00000000439 * Math.cos(0.74557141998 + 29428.515568274 * t);
-        Y0 += 0.00000000459 * Math.cos(2.08602741390 + 26137.8997634784 * t);
-        Y0 += 0.00000000441 * Math.cos(5.55002400505 + 2333.196392872 * t);
-        Y0 += 0.00000000420 * Math.cos(3.46875832008 + 128850.44281258718 * t);
-        Y0 += 0.00000000406 * Math.cos(0.99733773104 + 1581.959348283 * t);
-        Y0 += 0.00000000406 * Math.cos(5.56438736356 + 28421.0995344462 * t);
-        Y0 += 0.00000000515 * Math.cos(5.53709511500 + 26720.68688088739 * t);
-        Y0 += 0.00000000420 * Math.cos(3.43880146473 + 78267.59076008058 * t);
-        Y0 += 0.00000000457 * Math.cos(4.25870257295 + 25984.8103673556 * t);
-        Y0 += 0.00000000409 * Math.cos(1.89235979066 + 22747.2907148744 * t);
-        Y0 += 0.00000000441 * Math.cos(5.74769719365 + 78050.41032928458 * t);
-        Y0 += 0.00000000460 * Math.cos(4.60455680282 + 26190.99591579279 * t);
-        Y0 += 0.00000000428 * Math.cos(1.26561734018 + 27154.3986187642 * t);
-        Y0 += 0.00000000533 * Math.cos(3.36410465544 + 25455.119402261 * t);
-        Y0 += 0.00000000422 * Math.cos(0.73875718620 + 93028.94846799239 * t);
-        Y0 += 0.00000000490 * Math.cos(3.02631541744 + 76144.94556434419 * t);
-        Y0 += 0.00000000390 * Math.cos(3.42688671619 + 130012.91751699499 * t);
-        Y0 += 0.00000000364 * Math.cos(4.89106808289 + 78690.30761559859 * t);
-        Y0 += 0.00000000361 * Math.cos(1.30246090918 + 114564.89811250778 * t);
-        Y0 += 0.00000000356 * Math.cos(5.20137348148 + 52643.7712735028 * t);
-        Y0 += 0.00000000419 * Math.cos(5.01120890083 + 78259.82808936459 * t);
-        Y0 += 0.00000000395 * Math.cos(4.93033073834 + 78477.00852016058 * t);
-        Y0 += 0.00000000337 * Math.cos(4.88969069715 + 79852.78232000639 * t);
-        Y0 += 0.00000000364 * Math.cos(4.51546243970 + 48835.19385644859 * t);
-        Y0 += 0.00000000336 * Math.cos(0.50294839757 + 18207.81398823521 * t);
-        Y0 += 0.00000000317 * Math.cos(2.80195601464 + 76044.9523205358 * t);
-        Y0 += 0.00000000402 * Math.cos(3.61219119527 + 131395.11544947959 * t);
-        Y0 += 0.00000000302 * Math.cos(3.06677264697 + 25973.46385288896 * t);
-        Y0 += 0.00000000300 * Math.cos(5.73869132813 + 26202.34243025941 * t);
-        Y0 += 0.00000000418 * Math.cos(0.23893690129 + 71492.99882347698 * t);
-        Y0 += 0.00000000362 * Math.cos(4.00328511109 + 25565.3257234804 * t);
-        Y0 += 0.00000000412 * Math.cos(4.97023785153 + 1596.1864422846 * t);
-        Y0 += 0.00000000287 * Math.cos(5.88293841172 + 52182.4348420484 * t);
-        Y0 += 0.00000000356 * Math.cos(1.08678100754 + 64607.84893354619 * t);
-        Y0 += 0.00000000304 * Math.cos(3.41461416241 + 51707.84129279399 * t);
-        Y0 += 0.00000000289 * Math.cos(1.38259428580 + 26164.1692128498 * t);
-        Y0 += 0.00000000331 * Math.cos(4.78176305377 + 26610.48055966799 * t);
-        Y0 += 0.00000000379 * Math.cos(2.01230891559 + 26162.6847401415 * t);
-        Y0 += 0.00000000369 * Math.cos(4.21106702409 + 111590.28815789679 * t);
-        Y0 += 0.00000000269 * Math.cos(4.70967571334 + 143961.26714946238 * t);
-        Y0 += 0.00000000303 * Math.cos(1.01901288426 + 224.3447957019 * t);
-        Y0 += 0.00000000268 * Math.cos(1.81712028026 + 42153.969003049 * t);
-        Y0 += 0.00000000304 * Math.cos(4.67005655250 + 25448.00585526019 * t);
-        Y0 += 0.00000000361 * Math.cos(0.50112315849 + 26013.1215430069 * t);
-        Y0 += 0.00000000256 * Math.cos(3.80003583229 + 181555.94006083018 * t);
-        Y0 += 0.00000000275 * Math.cos(5.82016920298 + 956.2891559706 * t);
-        Y0 += 0.00000000273 * Math.cos(5.09640213545 + 111122.32316754239 * t);
-        Y0 += 0.00000000326 * Math.cos(0.96777570631 + 44181.27784112419 * t);
-        Y0 += 0.00000000246 * Math.cos(3.27375223453 + 51756.3216392732 * t);
-        Y0 += 0.00000000330 * Math.cos(0.00798707088 + 25771.5112719176 * t);
-        Y0 += 0.00000000287 * Math.cos(2.74227004893 + 52169.17772424839 * t);
-        Y0 += 0.00000000292 * Math.cos(6.15601792690 + 1162.4747044078 * t);
-        Y0 += 0.00000000310 * Math.cos(4.06618330246 + 632.7837393132 * t);
-        Y0 += 0.00000000329 * Math.cos(2.52774260295 + 26404.2950112308 * t);
-        Y0 += 0.00000000237 * Math.cos(5.19825257378 + 124156.43985787958 * t);
-        Y0 += 0.00000000270 * Math.cos(2.17478042507 + 33967.99229491319 * t);
-        Y0 += 0.00000000308 * Math.cos(2.31701247486 + 78270.82297172339 * t);
-        Y0 += 0.00000000252 * Math.cos(5.43206013202 + 25668.418497699 * t);
-        Y0 += 0.00000000232 * Math.cos(1.16243057531 + 536.8045120954 * t);
-        Y0 += 0.00000000276 * Math.cos(4.02093667465 + 77211.44104153418 * t);
-        Y0 += 0.00000000280 * Math.cos(1.12656118140 + 77197.21394753258 * t);
-        Y0 += 0.00000000261 * Math.cos(2.91718305686 + 32769.1279949738 * t);
-        Y0 += 0.00000000282 * Math.cos(3.10618381920 + 26507.38778544939 * t);
-        Y0 += 0.00000000226 * Math.cos(3.21437416344 + 100909.03762133139 * t);
-        Y0 += 0.00000000301 * Math.cos(3.03205392988 + 2648.454825473 * t);
-        Y0 += 0.00000000214 * Math.cos(5.24868357305 + 1478.8665740644 * t);
-        Y0 += 0.00000000285 * Math.cos(1.16645481114 + 18093.37469954999 * t);
-        Y0 += 0.00000000210 * Math.cos(4.64797028936 + 74.7815985673 * t);
-        Y0 += 0.00000000231 * Math.cos(4.32501953451 + 141762.17980617538 * t);
-        Y0 += 0.00000000208 * Math.cos(0.53974604249 + 146314.13330323418 * t);
-        Y0 += 0.00000000275 * Math.cos(2.92194964370 + 19406.6782881746 * t);
-        Y0 += 0.00000000215 * Math.cos(3.07194607878 + 72936.23331633979 * t);
-        Y0 += 0.00000000241 * Math.cos(3.00041465942 + 150866.08680029298 * t);
-        Y0 += 0.00000000210 * Math.cos(5.40180831849 + 183724.70054311278 * t);
-        Y0 += 0.00000000280 * Math.cos(0.67080969267 + 78114.14622758799 * t);
-        Y0 += 0.00000000266 * Math.cos(0.99085054170 + 39743.7636327506 * t);
-        Y0 += 0.00000000211 * Math.cos(0.17681817187 + 130969.20667296558 * t);
-        Y0 += 0.00000000244 * Math.cos(5.94815635837 + 11610.5519583742 * t);
-        Y0 += 0.00000000204 * Math.cos(3.19846374771 + 40565.2543247742 * t);
-        Y0 += 0.00000000223 * Math.cos(5.28159723194 + 81706.28436968799 * t);
-        Y0 += 0.00000000197 * Math.cos(1.04277639896 + 52815.7035694624 * t);
-        Y0 += 0.00000000210 * Math.cos(5.55248384993 + 110.2063212194 * t);
-        Y0 += 0.00000000249 * Math.cos(5.60231399902 + 71582.48457132299 * t);
-        Y0 += 0.00000000249 * Math.cos(5.36588348601 + 522.5774180938 * t);
-        Y0 += 0.00000000204 * Math.cos(0.78597046714 + 25881.717593137 * t);
-        Y0 += 0.00000000248 * Math.cos(0.67786738916 + 51742.09454527159 * t);
-        Y0 += 0.00000000201 * Math.cos(1.71510524072 + 26294.08869001139 * t);
-        Y0 += 0.00000000186 * Math.cos(2.14393493086 + 16066.0658614748 * t);
-        Y0 += 0.00000000233 * Math.cos(2.62533762305 + 7880.08915333899 * t);
-        Y0 += 0.00000000181 * Math.cos(3.52971486811 + 14477.35118320 * t);
-        Y0 += 0.00000000208 * Math.cos(4.24178638905 + 1375.7737998458 * t);
-        Y0 += 0.00000000175 * Math.cos(5.68870918967 + 51543.0225438352 * t);
-        Y0 += 0.00000000174 * Math.cos(1.73818712188 + 339142.74084046457 * t);
-        Y0 += 0.00000000184 * Math.cos(4.55500539385 + 129483.91596626239 * t);
-        Y0 += 0.00000000184 * Math.cos(1.16335036072 + 103711.71527998279 * t);
-        Y0 += 0.00000000195 * Math.cos(1.69401523663 + 50483.640613646 * t);
-        Y0 += 0.00000000191 * Math.cos(3.65375892828 + 155997.72788435058 * t);
-        Y0 += 0.00000000156 * Math.cos(4.67130228846 + 90695.75207512038 * t);
-        Y0 += 0.00000000174 * Math.cos(0.99979811068 + 25938.3399444396 * t);
-        Y0 += 0.00000000153 * Math.cos(0.95690434145 + 78109.93061423779 * t);
-        Y0 += 0.00000000155 * Math.cos(1.68645428840 + 188276.65404017158 * t);
-        Y0 += 0.00000000178 * Math.cos(4.17805845892 + 131498.89763806018 * t);
-        Y0 += 0.00000000157 * Math.cos(1.36959583051 + 61279.713277266 * t);
-        Y0 += 0.00000000165 * Math.cos(2.17592149563 + 467.9649903544 * t);
-        Y0 += 0.00000000201 * Math.cos(2.16052573018 + 51322.60990139639 * t);
-        Y0 += 0.00000000177 * Math.cos(3.62256077196 + 26624.70765366959 * t);
-        Y0 += 0.00000000169 * Math.cos(3.68765594503 + 121335.60871375339 * t);
-        Y0 += 0.00000000154 * Math.cos(3.71172436062 + 52101.02468458109 * t);
-        Y0 += 0.00000000148 * Math.cos(3.07726125475 + 104331.94280539699 * t);
-        Y0 += 0.00000000141 * Math.cos(1.50870150844 + 50593.84693486539 * t);
-        Y0 += 0.00000000158 * Math.cos(1.19202527109 + 78417.48823520739 * t);
-        Y0 += 0.00000000144 * Math.cos(2.36390617422 + 106570.36967048359 * t);
-        Y0 += 0.00000000141 * Math.cos(0.89841562130 + 52278.89905736699 * t);
-        Y0 += 0.00000000163 * Math.cos(5.63284948646 + 25780.3455206046 * t);
-        Y0 += 0.00000000134 * Math.cos(3.07482380747 + 22759.76748529401 * t);
-        Y0 += 0.00000000161 * Math.cos(3.16796063002 + 26395.46076254379 * t);
-        Y0 += 0.00000000150 * Math.cos(5.18410766275 + 104371.28232719658 * t);
-        Y0 += 0.00000000168 * Math.cos(3.63358402936 + 103.0927742186 * t);
-        Y0 += 0.00000000140 * Math.cos(6.13152525193 + 102232.84870591838 * t);
-        Y0 += 0.00000000147 * Math.cos(2.51789010019 + 23888.81579828719 * t);
-        Y0 += 0.00000000127 * Math.cos(2.36011326038 + 54294.57014352679 * t);
-        Y0 += 0.00000000141 * Math.cos(2.25597418479 + 52808.59002246159 * t);
-        Y0 += 0.00000000173 * Math.cos(1.01540755996 + 78187.44335344699 * t);
-        Y0 += 0.00000000119 * Math.cos(6.12399199517 + 178063.36849396059 * t);
-        Y0 += 0.00000000122 * Math.cos(2.34676419834 + 181505.94343892598 * t);
-        Y0 += 0.00000000151 * Math.cos(1.37299401445 + 13362.4497067992 * t);
-        Y0 += 0.00000000157 * Math.cos(5.28735408136 + 25551.09862947879 * t);
-        Y0 += 0.00000000123 * Math.cos(0.96970788409 + 52072.71350892979 * t);
-        Y0 += 0.00000000139 * Math.cos(4.14216887691 + 97112.93697469679 * t);
-        Y0 += 0.00000000128 * Math.cos(4.93461808532 + 26521.614879451 * t);
-        Y0 += 0.00000000116 * Math.cos(2.49690552706 + 104344.49901929598 * t);
-        Y0 += 0.00000000114 * Math.cos(0.24802201171 + 154938.34595416138 * t);
-        Y0 += 0.00000000115 * Math.cos(5.79810804423 + 29416.03879785439 * t);
-        Y0 += 0.00000000115 * Math.cos(6.24514589647 + 110634.68841628819 * t);
-        Y0 += 0.00000000110 * Math.cos(4.82546925433 + 68241.87214462319 * t);
-        Y0 += 0.00000000112 * Math.cos(0.79767917933 + 24176.703658357 * t);
-        Y0 += 0.00000000115 * Math.cos(5.52737393321 + 25754.0472008048 * t);
-        Y0 += 0.00000000113 * Math.cos(3.27781553156 + 26421.7590823436 * t);
-        Y0 += 0.00000000145 * Math.cos(3.81995922658 + 50579.61984086379 * t);
-        Y0 += 0.00000000105 * Math.cos(0.18392017096 + 156100.82065856918 * t);
-        Y0 += 0.00000000104 * Math.cos(2.59023526043 + 26198.1094627936 * t);
-        Y0 += 0.00000000122 * Math.cos(6.27846196005 + 28286.9904848612 * t);
-        Y0 += 0.00000000111 * Math.cos(3.42525009396 + 116917.76426627958 * t);
-        Y0 += 0.00000000115 * Math.cos(1.34072654703 + 26011.6370702986 * t);
-        Y0 += 0.00000000112 * Math.cos(1.57964254375 + 51639.00177105299 * t);
-        Y0 += 0.00000000103 * Math.cos(1.26476363927 + 74923.09699802278 * t);
-        Y0 += 0.00000000100 * Math.cos(3.81573971334 + 25035.6347583858 * t);
-        Y0 += 0.00000000101 * Math.cos(1.80630451732 + 27999.1026247914 * t);
-        Y0 += 0.00000000097 * Math.cos(3.56860113068 + 323.5054166574 * t);
-        Y0 += 0.00000000100 * Math.cos(1.69912254726 + 104564.91166173479 * t);
-        Y0 += 0.00000000129 * Math.cos(2.55737037120 + 104138.31347085879 * t);
-        Y0 += 0.00000000099 * Math.cos(5.11520176982 + 31415.379249957 * t);
-        Y0 += 0.00000000119 * Math.cos(5.01902877668 + 134991.46920492979 * t);
-        Y0 += 0.00000000110 * Math.cos(4.87500455770 + 24356.7807886416 * t);
-        Y0 += 0.00000000131 * Math.cos(1.06726827836 + 647.0108333148 * t);
-        Y0 += 0.00000000107 * Math.cos(3.72516243793 + 55516.4187098482 * t);
-        Y0 += 0.00000000094 * Math.cos(2.32320888992 + 54509.0026760204 * t);
-        Y0 += 0.00000000094 * Math.cos(3.49259349841 + 52125.80966124419 * t);
-        Y0 += 0.00000000103 * Math.cos(1.50774531093 + 51951.46148744649 * t);
-        Y0 += 0.00000000095 * Math.cos(1.91538502113 + 742.9900605326 * t);
-        Y0 += 0.00000000103 * Math.cos(3.43765189240 + 26941.0995233262 * t);
-        Y0 += 0.00000000094 * Math.cos(3.91518615306 + 27780.06881107659 * t);
-        Y0 += 0.00000000102 * Math.cos(0.20220739054 + 104355.49390165479 * t);
-        Y0 += 0.00000000108 * Math.cos(5.64358884743 + 49527.35145767539 * t);
-        Y0 += 0.00000000087 * Math.cos(4.80227955082 + 52325.36948028299 * t);
-        Y0 += 0.00000000097 * Math.cos(2.98258829049 + 51219.51712717779 * t);
-        Y0 += 0.00000000102 * Math.cos(5.09206185737 + 52250.5878817157 * t);
-        Y0 += 0.00000000092 * Math.cos(4.35841484859 + 140652.80125408198 * t);
-        Y0 += 0.00000000107 * Math.cos(0.38517739982 + 157483.01859105378 * t);
-        Y0 += 0.00000000090 * Math.cos(3.67394196940 + 36109.7404216736 * t);
-        Y0 += 0.00000000100 * Math.cos(3.93901407412 + 27819.0254945068 * t);
-        Y0 += 0.00000000086 * Math.cos(1.50847151211 + 53228.07466633679 * t);
-        Y0 += 0.00000000088 * Math.cos(3.14925830025 + 52065.59996192899 * t);
-        Y0 += 0.00000000099 * Math.cos(3.28990595710 + 97580.90196505119 * t);
-        Y0 += 0.00000000102 * Math.cos(5.08658507796 + 52225.8029050526 * t);
-        Y0 += 0.00000000087 * Math.cos(1.65916392662 + 104778.21075717278 * t);
-        Y0 += 0.00000000096 * Math.cos(1.03224594955 + 38813.3565763492 * t);
-        Y0 += 0.00000000081 * Math.cos(6.20215025642 + 25977.69682035479 * t);
-        Y0 += 0.00000000083 * Math.cos(1.97230419758 + 78731.674415077 * t);
-        Y0 += 0.00000000100 * Math.cos(3.78538237499 + 119116.85160956658 * t);
-        Y0 += 0.00000000094 * Math.cos(3.01992291922 + 51859.41441349179 * t);
-        Y0 += 0.00000000081 * Math.cos(4.33788649947 + 53242.3017603384 * t);
-        Y0 += 0.00000000081 * Math.cos(1.65998131052 + 105940.68546158058 * t);
-        Y0 += 0.00000000077 * Math.cos(5.85420580120 + 102132.85546210999 * t);
-        Y0 += 0.00000000091 * Math.cos(2.66548595290 + 51013.33157874059 * t);
-        Y0 += 0.00000000089 * Math.cos(0.95977221728 + 137678.19129947099 * t);
-        Y0 += 0.00000000094 * Math.cos(1.39579973847 + 2221.856634597 * t);
-        Y0 += 0.00000000076 * Math.cos(0.07242308044 + 3328.13565628019 * t);
-        Y0 += 0.00000000078 * Math.cos(4.80022000976 + 60055.89543648739 * t);
-        Y0 += 0.00000000085 * Math.cos(1.29757029645 + 12725.453434775 * t);
-        Y0 += 0.00000000090 * Math.cos(5.56852789130 + 52492.19815280499 * t);
-        Y0 += 0.00000000089 * Math.cos(2.43562167097 + 1911.1994832172 * t);
-        Y0 += 0.00000000073 * Math.cos(3.57598233076 + 50696.93970908399 * t);
-        Y0 += 0.00000000076 * Math.cos(6.27731427042 + 52595.29092702359 * t);
-        Y0 += 0.00000000102 * Math.cos(1.77465769367 + 104347.73123093879 * t);
-        Y0 += 0.00000000072 * Math.cos(1.47416335611 + 170049.17029103659 * t);
-        Y0 += 0.00000000079 * Math.cos(4.16366799640 + 103285.11708910679 * t);
-        Y0 += 0.00000000076 * Math.cos(0.08688140800 + 77844.22478084739 * t);
-        Y0 += 0.00000000095 * Math.cos(1.56604928496 + 52698.38370124219 * t);
-        Y0 += 0.00000000073 * Math.cos(1.11932970193 + 25021.4076643842 * t);
-        Y0 += 0.00000000078 * Math.cos(5.36472752861 + 104358.72611329758 * t);
-        Y0 += 0.00000000068 * Math.cos(3.11461030341 + 206.1855484372 * t);
-        Y0 += 0.00000000072 * Math.cos(2.40806201062 + 24998.19435038059 * t);
-        Y0 += 0.00000000071 * Math.cos(4.11293729141 + 27669.86248985719 * t);
-        Y0 += 0.00000000074 * Math.cos(5.08891807794 + 26222.0121911592 * t);
-        Y0 += 0.00000000079 * Math.cos(3.71784757916 + 104202.04936916218 * t);
-        Y0 += 0.00000000067 * Math.cos(2.65457842453 + 78270.33798362259 * t);
-        Y0 += 0.00000000080 * Math.cos(6.13936658892 + 8194.2753332086 * t);
-        Y0 += 0.00000000073 * Math.cos(3.70705736171 + 25953.79409198919 * t);
-        Y0 += 0.00000000074 * Math.cos(2.34582989695 + 97670.38771289718 * t);
-        Y0 += 0.00000000069 * Math.cos(0.57091762082 + 207643.84320240439 * t);
-        Y0 += 0.00000000065 * Math.cos(4.30219875903 + 12546.481939083 * t);
-        Y0 += 0.00000000071 * Math.cos(0.07238150577 + 126996.94076290558 * t);
-        Y0 += 0.00000000066 * Math.cos(3.25393240581 + 70269.18098269838 * t);
-        Y0 += 0.00000000079 * Math.cos(2.22876948108 + 25446.4895798352 * t);
-        Y0 += 0.00000000063 * Math.cos(1.94299439248 + 150244.34299945379 * t);
-        Y0 += 0.00000000066 * Math.cos(1.24367311450 + 2111.6503133776 * t);
-        Y0 += 0.00000000078 * Math.cos(3.71442447350 + 77829.99768684579 * t);
-        Y0 += 0.00000000081 * Math.cos(3.57966030338 + 49842.60989027639 * t);
-        Y0 += 0.00000000062 * Math.cos(2.82688841358 + 846.0828347512 * t);
-        Y0 += 0.00000000071 * Math.cos(1.76878466162 + 27684.0895838588 * t);
-        Y0 += 0.00000000065 * Math.cos(0.10862838701 + 27177.6119327678 * t);
-        Y0 += 0.00000000077 * Math.cos(0.29329825954 + 26729.31670331319 * t);
-        Y0 += 0.00000000082 * Math.cos(4.87562280261 + 26089.38761428249 * t);
-        Y0 += 0.00000000076 * Math.cos(1.87316011759 + 137210.22630911658 * t);
-        Y0 += 0.00000000071 * Math.cos(3.36184821357 + 17893.6278083656 * t);
-        Y0 += 0.00000000063 * Math.cos(2.50604307758 + 52290.24557183361 * t);
-        Y0 += 0.00000000060 * Math.cos(6.11673834767 + 52061.36699446317 * t);
-        Y0 += 0.00000000081 * Math.cos(3.95123901433 + 26086.4186688659 * t);
-        Y0 += 0.00000000072 * Math.cos(4.57323993670 + 50800.03248330259 * t);
-        Y0 += 0.00000000066 * Math.cos(0.09493437207 + 2008.557539159 * t);
-        Y0 += 0.00000000077 * Math.cos(0.77427822658 + 103299.34418310839 * t);
-        Y0 += 0.00000000058 * Math.cos(1.07510302489 + 167850.08294774959 * t);
-        Y0 += 0.00000000071 * Math.cos(5.75558240346 + 34282.1784747828 * t);
-        Y0 += 0.00000000056 * Math.cos(3.55494344576 + 44295.7171298094 * t);
-        Y0 += 0.00000000055 * Math.cos(5.96851303023 + 23969.1392811958 * t);
-        Y0 += 0.00000000055 * Math.cos(2.16330884790 + 209812.60368468695 * t);
-        Y0 += 0.00000000065 * Math.cos(5.22228985131 + 77410.51304297059 * t);
-        Y0 += 0.00000000058 * Math.cos(6.25432646821 + 25508.2155545754 * t);
-        Y0 += 0.00000000056 * Math.cos(3.84165768987 + 22625.658435709 * t);
-        Y0 += 0.00000000054 * Math.cos(4.44808157827 + 52252.07235442399 * t);
-        Y0 += 0.00000000055 * Math.cos(2.05172474251 + 107794.18751126219 * t);
-        Y0 += 0.00000000066 * Math.cos(0.18130668165 + 77795.74443436819 * t);
-        Y0 += 0.00000000068 * Math.cos(2.93375218430 + 19.66976089979 * t);
-        Y0 += 0.00000000055 * Math.cos(3.59336928200 + 172402.03644480839 * t);
-        Y0 += 0.00000000056 * Math.cos(3.42328370031 + 24448.8336243862 * t);
-        Y0 += 0.00000000073 * Math.cos(3.18180022689 + 24864.08530079559 * t);
-        Y0 += 0.00000000052 * Math.cos(4.91273220472 + 66653.15746634839 * t);
-        Y0 += 0.00000000053 * Math.cos(4.10843855595 + 26312.2479372761 * t);
-        Y0 += 0.00000000054 * Math.cos(2.57050838382 + 26667.590728573 * t);
-        Y0 += 0.00000000068 * Math.cos(0.06574276360 + 2199.087343287 * t);
-        Y0 += 0.00000000049 * Math.cos(1.03606235160 + 96357.08412427259 * t);
-        Y0 += 0.00000000051 * Math.cos(5.94534572630 + 58857.03113654799 * t);
-        Y0 += 0.00000000068 * Math.cos(5.79687331046 + 78257.08086582259 * t);
-        Y0 += 0.00000000050 * Math.cos(4.20409547221 + 129799.61842155698 * t);
-        Y0 += 0.00000000049 * Math.cos(2.61342795296 + 27044.1922975448 * t);
-        Y0 += 0.00000000062 * Math.cos(3.64195225027 + 38.1330356378 * t);
-        Y0 += 0.00000000051 * Math.cos(5.36138555309 + 27726.9726587622 * t);
-        Y0 += 0.00000000048 * Math.cos(6.03611290368 + 99024.13645791399 * t);
-        Y0 += 0.00000000047 * Math.cos(4.10470299674 + 51969.62073471119 * t);
-        Y0 += 0.00000000049 * Math.cos(2.30004526739 + 77630.92568540938 * t);
-        Y0 += 0.00000000056 * Math.cos(4.95742185541 + 27037.07875054399 * t);
-        Y0 += 0.00000000065 * Math.cos(5.63247484940 + 27311.72098235281 * t);
-        Y0 += 0.00000000055 * Math.cos(3.21960099803 + 157057.10981453978 * t);
-        Y0 += 0.00000000064 * Math.cos(4.73090166157 + 76571.54375522019 * t);
-        Y0 += 0.00000000055 * Math.cos(4.21524098893 + 23919.1426592916 * t);
-        Y0 += 0.00000000047 * Math.cos(4.96233788191 + 29550.14784743939 * t);
-        Y0 += 0.00000000047 * Math.cos(1.33048751622 + 155571.81910783658 * t);
-        Y0 += 0.00000000048 * Math.cos(4.68524066713 + 39629.32434406539 * t);
-        Y0 += 0.00000000049 * Math.cos(2.26366790917 + 86143.79857806159 * t);
-        Y0 += 0.00000000052 * Math.cos(6.11102279257 + 28736.3579670472 * t);
-        Y0 += 0.00000000046 * Math.cos(4.52836499361 + 76681.75007643958 * t);
-        Y0 += 0.00000000063 * Math.cos(6.05525919705 + 176953.98994186718 * t);
-        Y0 += 0.00000000052 * Math.cos(3.81191987554 + 220.4126424388 * t);
-        Y0 += 0.00000000052 * Math.cos(3.90556632585 + 25138.7275326044 * t);
-        Y0 += 0.00000000044 * Math.cos(2.11826208004 + 16703.062133499 * t);
-        Y0 += 0.00000000044 * Math.cos(4.09373605789 + 78903.60671103658 * t);
-        Y0 += 0.00000000043 * Math.cos(2.78314274287 + 1272.6810256272 * t);
-        Y0 += 0.00000000054 * Math.cos(4.84794812605 + 52381.99183158559 * t);
-        Y0 += 0.00000000042 * Math.cos(0.46089983609 + 1485.9801210652 * t);
-        Y0 += 0.00000000042 * Math.cos(0.51072992828 + 78188.92782615528 * t);
-        Y0 += 0.00000000048 * Math.cos(4.03364140605 + 65831.6667743248 * t);
-        Y0 += 0.00000000042 * Math.cos(1.76526717012 + 1795.258443721 * t);
-        Y0 += 0.00000000047 * Math.cos(4.06325102883 + 104275.34649502118 * t);
-        Y0 += 0.00000000048 * Math.cos(5.22216564191 + 25466.159340735 * t);
-        Y0 += 0.00000000046 * Math.cos(2.09054510396 + 949.1756089698 * t);
-        Y0 += 0.00000000039 * Math.cos(2.42252858155 + 55503.94193942859 * t);
-        Y0 += 0.00000000048 * Math.cos(0.55204010547 + 76667.52298243798 * t);
-        Y0 += 0.00000000041 * Math.cos(4.68645736183 + 54087.0057663656 * t);
-        Y0 += 0.00000000044 * Math.cos(0.18464522171 + 1265.5674786264 * t);
-        Y0 += 0.00000000047 * Math.cos(3.57377527690 + 26709.6469424134 * t);
-        Y0 += 0.00000000046 * Math.cos(4.58966952379 + 28256.66362385679 * t);
-        Y0 += 0.00000000040 * Math.cos(2.43593735104 + 25352.02662804239 * t);
-        Y0 += 0.00000000044 * Math.cos(0.28326275745 + 52712.61079524379 * t);
-        Y0 += 0.00000000040 * Math.cos(0.06426607172 + 26823.77965510599 * t);
-        Y0 += 0.00000000043 * Math.cos(4.78359780736 + 365230.64398203876 * t);
-        Y0 += 0.00000000051 * Math.cos(0.42322753564 + 182085.63102592478 * t);
-        Y0 += 0.00000000045 * Math.cos(3.69056749350 + 25867.49049913539 * t);
-        Y0 += 0.00000000038 * Math.cos(2.95265152123 + 128320.75184749259 * t);
-        Y0 += 0.00000000038 * Math.cos(4.24964079407 + 104505.39137678158 * t);
-        Y0 += 0.00000000037 * Math.cos(5.45870103761 + 132658.27281205778 * t);
-        Y0 += 0.00000000036 * Math.cos(4.01505056763 + 104197.83375581198 * t);
-        Y0 += 0.00000000042 * Math.cos(4.73645882503 + 214364.55718174578 * t);
-        Y0 += 0.00000000042 * Math.cos(3.62652817335 + 25169.9728555924 * t);
-        Y0 += 0.00000000038 * Math.cos(5.05414542008 + 13541.42120249119 * t);
-        Y0 += 0.00000000036 * Math.cos(1.25304159965 + 116783.65521669458 * t);
-        Y0 += 0.00000000037 * Math.cos(0.15651744362 + 26073.67604757259 * t);
-        Y0 += 0.00000000037 * Math.cos(1.95429510696 + 130459.18546877075 * t);
-        Y0 += 0.00000000037 * Math.cos(0.10010579661 + 24203.0019781568 * t);
-        Y0 += 0.00000000036 * Math.cos(1.07961540756 + 26057.57628056979 * t);
-        Y0 += 0.00000000036 * Math.cos(2.35351546150 + 26102.1302355758 * t);
-        Y0 += 0.00000000039 * Math.cos(3.82952906520 + 151.0476698429 * t);
-        Y0 += 0.00000000035 * Math.cos(1.43330630555 + 26118.2300025786 * t);
-        Y0 += 0.00000000036 * Math.cos(5.28457918668 + 78896.49316403578 * t);
-        Y0 += 0.00000000047 * Math.cos(0.46836410864 + 147423.51185532758 * t);
-        Y0 += 0.00000000037 * Math.cos(3.86488170615 + 78366.80219894118 * t);
-        Y0 += 0.00000000034 * Math.cos(1.99586823431 + 27566.76971563859 * t);
-        Y0 += 0.00000000039 * Math.cos(5.16595018555 + 27005.83342755599 * t);
-        Y0 += 0.00000000045 * Math.cos(5.50909039088 + 2125.8774073792 * t);
-        Y0 += 0.00000000045 * Math.cos(1.86629837439 + 153.7788104848 * t);
-        Y0 += 0.00000000037 * Math.cos(2.43731961667 + 25773.71696170459 * t);
-        Y0 += 0.00000000044 * Math.cos(5.23291381444 + 26308.315784013 * t);
-        Y0 += 0.00000000035 * Math.cos(1.05320110634 + 27463.67694142 * t);
-        Y0 += 0.00000000040 * Math.cos(4.02382647386 + 25654.19140369739 * t);
-        Y0 += 0.00000000037 * Math.cos(0.07560209645 + 26402.0893214438 * t);
-        Y0 += 0.00000000036 * Math.cos(1.61232862223 + 51653.22886505459 * t);
-        Y0 += 0.00000000033 * Math.cos(0.42458452244 + 26189.8656598398 * t);
-        Y0 += 0.00000000032 * Math.cos(5.23283983463 + 51852.30086649099 * t);
-        Y0 += 0.00000000042 * Math.cos(2.44221903170 + 75615.25459924959 * t);
-        Y0 += 0.00000000040 * Math.cos(2.83526315611 + 148.0787244263 * t);
-        Y0 += 0.00000000033 * Math.cos(2.88930013582 + 204151.27163553478 * t);
-        Y0 += 0.00000000036 * Math.cos(6.12428536735 + 130419.8459469712 * t);
-        Y0 += 0.00000000035 * Math.cos(0.40523188780 + 9384.8410080752 * t);
-        Y0 += 0.00000000032 * Math.cos(2.08833719067 + 25985.94062330859 * t);
-        Y0 += 0.00000000033 * Math.cos(0.23168510760 + 35472.7441496494 * t);
-        Y0 += 0.00000000033 * Math.cos(2.40916004743 + 27972.80430499159 * t);
-        Y0 += 0.00000000043 * Math.cos(0.94126409897 + 157586.80077963437 * t);
-        Y0 += 0.00000000034 * Math.cos(2.40767650115 + 51868.2486621788 * t);
-        Y0 += 0.00000000044 * Math.cos(1.43873271021 + 51528.79544983359 * t);
-        Y0 += 0.00000000031 * Math.cos(4.01862366233 + 78160.61665050399 * t);
-        Y0 += 0.00000000031 * Math.cos(5.39381686645 + 207593.84658050018 * t);
-        Y0 += 0.00000000031 * Math.cos(1.63565043557 + 94329.77528619739 * t);
-        Y0 += 0.00000000030 * Math.cos(5.53920573257 + 130432.40216087017 * t);
-        Y0 += 0.00000000030 * Math.cos(3.30348567737 + 181026.24909573558 * t);
-        Y0 += 0.00000000031 * Math.cos(0.58465350275 + 51432.81622261579 * t);
-        Y0 += 0.00000000035 * Math.cos(5.63323743373 + 130226.21661243298 * t);
-        Y0 += 0.00000000041 * Math.cos(4.10893149085 + 64901.25971792339 * t);
-        Y0 += 0.00000000038 * Math.cos(2.74077466350 + 37698.4550999484 * t);
-        Y0 += 0.00000000028 * Math.cos(5.42226462076 + 80382.47328510099 * t);
-        Y0 += 0.00000000028 * Math.cos(3.23530343392 + 182188.72380014337 * t);
-        Y0 += 0.00000000030 * Math.cos(5.69753597308 + 77101.23472031478 * t);
-        Y0 += 0.00000000029 * Math.cos(2.84454397902 + 114.3991069134 * t);
-        Y0 += 0.00000000032 * Math.cos(1.03692995892 + 49953.94964855139 * t);
-        Y0 += 0.00000000027 * Math.cos(4.34958892371 + 101011.00013959699 * t);
-        Y0 += 0.00000000029 * Math.cos(2.60689456510 + 26083.97098831109 * t);
-        Y0 += 0.00000000027 * Math.cos(0.05549126696 + 52509.6622239178 * t);
-        Y0 += 0.00000000029 * Math.cos(6.19291069275 + 26091.83529483729 * t);
-        Y0 += 0.00000000032 * Math.cos(2.62281532990 + 24925.4284371664 * t);
-        Y0 += 0.00000000034 * Math.cos(5.96614879093 + 22003.9146348698 * t);
-        Y0 += 0.00000000035 * Math.cos(6.21900169182 + 52483.36390411799 * t);
-        Y0 += 0.00000000029 * Math.cos(3.02582488582 + 136722.59155786238 * t);
-        Y0 += 0.00000000031 * Math.cos(4.43970588456 + 87367.61641884019 * t);
-        Y0 += 0.00000000033 * Math.cos(4.64183110644 + 77726.90491262719 * t);
-        Y0 += 0.00000000034 * Math.cos(4.71487895725 + 1905.4647649404 * t);
-        Y0 += 0.00000000026 * Math.cos(4.27544189057 + 26049.7701059364 * t);
-        Y0 += 0.00000000025 * Math.cos(4.75010185308 + 130652.81480330898 * t);
-        Y0 += 0.00000000026 * Math.cos(3.04611137889 + 54374.8936264354 * t);
-        Y0 += 0.00000000028 * Math.cos(0.48396088623 + 51226.63067417859 * t);
-        Y0 += 0.00000000033 * Math.cos(4.54904645879 + 78039.36462902068 * t);
-        Y0 += 0.00000000027 * Math.cos(3.40789619643 + 183570.92173262799 * t);
-        Y0 += 0.00000000033 * Math.cos(0.91422316489 + 123200.84011627098 * t);
-        Y0 += 0.00000000025 * Math.cos(1.86918416559 + 78338.49102328988 * t);
-        Y0 += 0.00000000027 * Math.cos(5.63520290926 + 1223.81784077861 * t);
-        Y0 += 0.00000000024 * Math.cos(1.09879284413 + 24824.745778996 * t);
-        Y0 += 0.00000000030 * Math.cos(6.02578053535 + 77307.42026875199 * t);
-        Y0 += 0.00000000026 * Math.cos(4.40497747181 + 39450.3528483734 * t);
-        Y0 += 0.00000000024 * Math.cos(1.67160749703 + 1045.1548361876 * t);
-        Y0 += 0.00000000029 * Math.cos(4.01431074745 + 25600.26839032 * t);
-        Y0 += 0.00000000027 * Math.cos(5.45015263034 + 27170.98337386779 * t);
-        Y0 += 0.00000000027 * Math.cos(3.35506505446 + 25004.8229092806 * t);
-        Y0 += 0.00000000024 * Math.cos(1.70570280621 + 52609.51802102519 * t);
-        Y0 += 0.00000000024 * Math.cos(0.92190112786 + 129373.02023068098 * t);
-        Y0 += 0.00000000025 * Math.cos(3.42703894978 + 299.1263942692 * t);
-        Y0 += 0.00000000027 * Math.cos(0.19476264674 + 143005.66740785378 * t);
-        Y0 += 0.00000000027 * Math.cos(6.01076879125 + 24072.9214697764 * t);
-        Y0 += 0.00000000024 * Math.cos(5.68395366955 + 52286.01260436779 * t);
-        Y0 += 0.00000000028 * Math.cos(4.77908913093 + 26575.53789282839 * t);
-        Y0 += 0.00000000030 * Math.cos(1.77580150574 + 161079.37234650398 * t);
-        Y0 += 0.00000000025 * Math.cos(3.28511315405 + 92741.06060792258 * t);
-        Y0 += 0.00000000023 * Math.cos(1.28923152263 + 60370.08161635699 * t);
-        Y0 += 0.00000000023 * Math.cos(0.30769835394 + 76784.84285065818 * t);
-        Y0 += 0.00000000025 * Math.cos(6.12372098057 + 48847.6706268682 * t);
-        Y0 += 0.00000000026 * Math.cos(6.21853790794 + 78153.50310350319 * t);
-        Y0 += 0.00000000023 * Math.cos(6.03986636871 + 77947.31755506598 * t);
-        Y0 += 0.00000000023 * Math.cos(0.06005390957 + 123668.80510662538 * t);
-        Y0 += 0.00000000022 * Math.cos(0.26166099168 + 78213.71280281838 * t);
-        Y0 += 0.00000000025 * Math.cos(4.36791869246 + 26724.8994135984 * t);
-        Y0 += 0.00000000025 * Math.cos(4.43729899234 + 25450.90686955 * t);
-        Y0 += 0.00000000022 * Math.cos(1.41483604412 + 27351.06050415239 * t);
-        Y0 += 0.00000000028 * Math.cos(2.82763549527 + 30171.8916482786 * t);
-        Y0 += 0.00000000022 * Math.cos(3.84824366233 + 50264.6067999312 * t);
-        Y0 += 0.00000000026 * Math.cos(5.41642995127 + 25234.70675982219 * t);
-        Y0 += 0.00000000030 * Math.cos(0.70937754307 + 53906.92863608099 * t);
-        Y0 += 0.00000000023 * Math.cos(4.80298766860 + 316.3918696566 * t);
-        Y0 += 0.00000000024 * Math.cos(4.62065948726 + 78786.28684281638 * t);
-        Y0 += 0.00000000022 * Math.cos(1.83211095898 + 6885.14988993081 * t);
-        Y0 += 0.00000000022 * Math.cos(1.19881833941 + 50064.15596977079 * t);
-        Y0 += 0.00000000025 * Math.cos(4.82521606002 + 130435.63437251298 * t);
-        Y0 += 0.00000000022 * Math.cos(1.64262163906 + 50444.6839302158 * t);
-        Y0 += 0.00000000023 * Math.cos(0.48284788906 + 103917.90082841998 * t);
-        Y0 += 0.00000000025 * Math.cos(0.72627176075 + 52174.32181044009 * t);
-        Y0 += 0.00000000022 * Math.cos(2.31815942379 + 78580.10129437919 * t);
-        Y0 += 0.00000000022 * Math.cos(5.37072237928 + 80596.9058175946 * t);
-        Y0 += 0.00000000024 * Math.cos(2.29466576857 + 51841.950342379 * t);
-        Y0 += 0.00000000022 * Math.cos(3.98563117453 + 163766.09444104518 * t);
-        Y0 += 0.00000000024 * Math.cos(2.77938448215 + 28102.884813372 * t);
-        Y0 += 0.00000000028 * Math.cos(4.67187139230 + 6129.2970395066 * t);
-        Y0 += 0.00000000028 * Math.cos(4.50423924612 + 1731.1223529326 * t);
-        Y0 += 0.00000000023 * Math.cos(3.83483940099 + 129387.24732468258 * t);
-        Y0 += 0.00000000025 * Math.cos(0.44167057897 + 81604.32185142238 * t);
-        Y0 += 0.00000000021 * Math.cos(1.43990956253 + 1063.3140834523 * t);
-        Y0 += 0.00000000020 * Math.cos(5.63766440403 + 51955.39364070959 * t);
-        Y0 += 0.00000000019 * Math.cos(0.14811705167 + 1089.7087911936 * t);
-        Y0 += 0.00000000021 * Math.cos(0.48382399190 + 130289.95251073639 * t);
-        Y0 += 0.00000000020 * Math.cos(6.06263628388 + 86457.98475793119 * t);
-        Y0 += 0.00000000020 * Math.cos(5.37392483479 + 123758.29085447139 * t);
-        Y0 += 0.00000000019 * Math.cos(5.99896464484 + 51329.7234483972 * t);
-        Y0 += 0.00000000020 * Math.cos(4.52823506105 + 196137.07343261078 * t);
-        Y0 += 0.00000000023 * Math.cos(1.12690816744 + 166740.70439565618 * t);
-        Y0 += 0.00000000022 * Math.cos(3.39965156778 + 16342.5825857176 * t);
-        Y0 += 0.00000000022 * Math.cos(5.57412323033 + 3462.2447058652 * t);
-        Y0 += 0.00000000023 * Math.cos(2.31183970817 + 50167.24874398939 * t);
-        Y0 += 0.00000000022 * Math.cos(4.76145913299 + 26126.036177212 * t);
-        Y0 += 0.00000000022 * Math.cos(4.14425825536 + 26734.913974889 * t);
-        Y0 += 0.00000000019 * Math.cos(3.09805264388 + 78683.19406859778 * t);
-        Y0 += 0.00000000019 * Math.cos(1.57754212699 + 78413.27262185719 * t);
-        Y0 += 0.00000000024 * Math.cos(0.55755098688 + 145204.75475114079 * t);
-        Y0 += 0.00000000019 * Math.cos(3.56013605744 + 102018.41617342478 * t);
-        Y0 += 0.00000000019 * Math.cos(2.12244186746 + 130446.62925487179 * t);
-        Y0 += 0.00000000024 * Math.cos(1.47596121866 + 52177.29075585669 * t);
-        Y0 += 0.00000000025 * Math.cos(3.25287024656 + 130443.39704322898 * t);
-        Y0 += 0.00000000022 * Math.cos(5.54888786998 + 24952.226269681 * t);
-        Y0 += 0.00000000020 * Math.cos(5.01791562590 + 104819.57755665119 * t);
-        Y0 += 0.00000000019 * Math.cos(0.22114816361 + 53029.0026649004 * t);
-        Y0 += 0.00000000019 * Math.cos(4.66235459384 + 26248.310510959 * t);
-        Y0 += 0.00000000019 * Math.cos(4.14286309096 + 25927.49577218939 * t);
-        Y0 += 0.00000000018 * Math.cos(2.61853732084 + 128220.75860368418 * t);
-        Y0 += 0.00000000020 * Math.cos(4.36521030279 + 25907.8260112896 * t);
-        Y0 += 0.00000000020 * Math.cos(4.44000738201 + 26267.9802718588 * t);
-        Y0 += 0.00000000019 * Math.cos(3.36352476280 + 52817.21984488739 * t);
-        Y0 += 0.00000000018 * Math.cos(0.30828612349 + 26411.4085582316 * t);
-        Y0 += 0.00000000022 * Math.cos(3.17973512175 + 103932.12792242158 * t);
-        Y0 += 0.00000000018 * Math.cos(5.78685842485 + 75930.51303185058 * t);
-        Y0 += 0.00000000020 * Math.cos(5.09591693073 + 12412.372889498 * t);
-        Y0 += 0.00000000025 * Math.cos(1.79028039602 + 78313.70604662679 * t);
-        Y0 += 0.00000000020 * Math.cos(3.61265389901 + 233731.74634397858 * t);
-        Y0 += 0.00000000021 * Math.cos(3.24219932966 + 27223.5800134674 * t);
-        Y0 += 0.00000000017 * Math.cos(0.72171071986 + 53867.97195265079 * t);
-        Y0 += 0.00000000019 * Math.cos(4.86189338108 + 25863.55834587229 * t);
-        Y0 += 0.00000000017 * Math.cos(5.48277957945 + 24602.61243487099 * t);
-        Y0 += 0.00000000016 * Math.cos(4.01284635822 + 3.881335358 * t);
-        Y0 += 0.00000000016 * Math.cos(1.12213372181 + 79330.20490191258 * t);
-        Y0 += 0.00000000017 * Math.cos(0.36844604424 + 11.0457002639 * t);
-        Y0 += 0.00000000018 * Math.cos(4.58738050642 + 79315.97780791098 * t);
-        Y0 += 0.00000000022 * Math.cos(1.30917900414 + 76887.93562487679 * t);
-        Y0 += 0.00000000016 * Math.cos(3.30777698968 + 27573.1938482774 * t);
-        Y0 += 0.00000000021 * Math.cos(3.15503951358 + 153084.84390447979 * t);
-        Y0 += 0.00000000017 * Math.cos(5.50445239257 + 52137.67324751059 * t);
-        Y0 += 0.00000000018 * Math.cos(0.43707176640 + 62197.64356324779 * t);
-        Y0 += 0.00000000019 * Math.cos(4.71487615393 + 130866.11389874699 * t);
-        Y0 += 0.00000000016 * Math.cos(4.53135096192 + 28309.75977617119 * t);
-        Y0 += 0.00000000019 * Math.cos(4.97195581426 + 163298.12945069079 * t);
-        Y0 += 0.00000000015 * Math.cos(6.01544571455 + 50903.1252575212 * t);
-        Y0 += 0.00000000015 * Math.cos(0.94947396087 + 155887.52156313117 * t);
-        Y0 += 0.00000000016 * Math.cos(1.95850844074 + 103498.41618454478 * t);
-        Y0 += 0.00000000022 * Math.cos(4.51054091879 + 1055.4497769261 * t);
-        Y0 += 0.00000000021 * Math.cos(3.55728303850 + 3178.1457905676 * t);
-        Y0 += 0.00000000015 * Math.cos(3.36560803567 + 61560.64729122359 * t);
-        Y0 += 0.00000000017 * Math.cos(1.75781825802 + 55638.05098901359 * t);
-        Y0 += 0.00000000018 * Math.cos(4.71857780098 + 132028.58860315479 * t);
-        Y0 += 0.00000000016 * Math.cos(5.70225976379 + 104358.2411251968 * t);
-        Y0 += 0.00000000016 * Math.cos(5.00130427149 + 176332.24614102798 * t);
-        Y0 += 0.00000000017 * Math.cos(2.00762224529 + 80174.90890793978 * t);
-        Y0 += 0.00000000015 * Math.cos(1.85651180492 + 52309.9153327334 * t);
-        Y0 += 0.00000000015 * Math.cos(5.85519527755 + 6044.2285813754 * t);
-        Y0 += 0.00000000017 * Math.cos(1.48305732410 + 102659.44689679438 * t);
-        Y0 += 0.00000000015 * Math.cos(2.05223117625 + 50689.82616208319 * t);
-        Y0 += 0.00000000015 * Math.cos(5.20562567296 + 235900.50682626116 * t);
-        Y0 += 0.00000000014 * Math.cos(4.13325462242 + 193937.98608932378 * t);
-        Y0 += 0.00000000015 * Math.cos(1.04578298609 + 50007.0458008658 * t);
-        Y0 += 0.00000000015 * Math.cos(4.77605690111 + 26830.8932021068 * t);
-        Y0 += 0.00000000014 * Math.cos(5.09441703249 + 133882.09065283638 * t);
-        Y0 += 0.00000000014 * Math.cos(0.73264409160 + 50380.54783942739 * t);
-        Y0 += 0.00000000016 * Math.cos(0.34142596191 + 77.7505439839 * t);
-        Y0 += 0.00000000016 * Math.cos(5.83322656205 + 81591.84508100279 * t);
-        Y0 += 0.00000000016 * Math.cos(2.56012166691 + 104344.98400739678 * t);
-        Y0 += 0.00000000014 * Math.cos(0.38043611029 + 26247.2048763664 * t);
-        Y0 += 0.00000000014 * Math.cos(2.14159626733 + 25928.601406782 * t);
-        Y0 += 0.00000000016 * Math.cos(2.29540093320 + 50910.238804522 * t);
-        Y0 += 0.00000000014 * Math.cos(4.21516962824 + 1169.5882514086 * t);
-        Y0 += 0.00000000016 * Math.cos(2.14443787663 + 53814.87580033639 * t);
-        Y0 += 0.00000000014 * Math.cos(2.88257919019 + 78149.27013603736 * t);
-        Y0 += 0.00000000016 * Math.cos(2.81982401926 + 203041.89308344138 * t);
-        Y0 += 0.00000000017 * Math.cos(0.14097228090 + 14.2270940016 * t);
-        Y0 += 0.00000000015 * Math.cos(4.50854313896 + 77616.69859140778 * t);
-        Y0 += 0.00000000013 * Math.cos(2.95502641054 + 125112.03959948818 * t);
-        Y0 += 0.00000000014 * Math.cos(2.82070907634 + 52161.57918914679 * t);
-        Y0 += 0.00000000012 * Math.cos(1.09784520065 + 19202.75325164339 * t);
-        Y0 += 0.00000000014 * Math.cos(5.55450230200 + 78378.14871340781 * t);
-        Y0 += 0.00000000014 * Math.cos(1.64692338972 + 26076.8574413103 * t);
-        Y0 += 0.00000000014 * Math.cos(0.87510898790 + 26098.9488418381 * t);
-        Y0 += 0.00000000012 * Math.cos(0.84912804767 + 45290.65639321759 * t);
-        Y0 += 0.00000000016 * Math.cos(5.27893423231 + 51534.3927214094 * t);
-        Y0 += 0.00000000014 * Math.cos(2.87981573153 + 20043.6745601988 * t);
-        Y0 += 0.00000000012 * Math.cos(5.35625751365 + 23439.44831610119 * t);
-        Y0 += 0.00000000014 * Math.cos(0.36434746971 + 198489.93958638258 * t);
-        Y0 += 0.00000000013 * Math.cos(5.25472472921 + 103718.82882698359 * t);
-        Y0 += 0.00000000015 * Math.cos(5.02501370640 + 2168.7604822826 * t);
-        Y0 += 0.00000000013 * Math.cos(5.68468150971 + 32132.1317229496 * t);
-        Y0 += 0.00000000013 * Math.cos(5.38865614891 + 35833.2236974308 * t);
-        Y0 += 0.00000000012 * Math.cos(5.97483232665 + 25984.1209529936 * t);
-        Y0 += 0.00000000012 * Math.cos(2.83038535815 + 26191.68533015479 * t);
-        Y0 += 0.00000000014 * Math.cos(3.16931627704 + 53265.515074342 * t);
-        Y0 += 0.00000000012 * Math.cos(4.37902547397 + 181659.72224941078 * t);
-        Y0 += 0.00000000014 * Math.cos(2.41044769584 + 53399.624123927 * t);
-        Y0 += 0.00000000012 * Math.cos(4.85232249551 + 53771.99272543299 * t);
-        Y0 += 0.00000000012 * Math.cos(0.15450821256 + 43981.5309499398 * t);
-        Y0 += 0.00000000013 * Math.cos(3.53629828268 + 102755.42612401219 * t);
-        Y0 += 0.00000000012 * Math.cos(4.35406626992 + 28199.55345495179 * t);
-        Y0 += 0.00000000016 * Math.cos(4.42924935277 + 34082.4315835984 * t);
-        Y0 += 0.00000000012 * Math.cos(3.02030436898 + 51596.1186961496 * t);
-        Y0 += 0.00000000013 * Math.cos(4.97119141190 + 52024.75861330549 * t);
-        Y0 += 0.00000000013 * Math.cos(3.53530203976 + 173511.41499690177 * t);
-        Y0 += 0.00000000011 * Math.cos(3.07690283750 + 52911.68279668019 * t);
-        Y0 += 0.00000000011 * Math.cos(0.32804624048 + 70383.6202713836 * t);
-        Y0 += 0.00000000015 * Math.cos(3.18025181635 + 50049.92887576919 * t);
-        Y0 += 0.00000000015 * Math.cos(3.22392612987 + 103883.64757594238 * t);
-        Y0 += 0.00000000013 * Math.cos(3.44611140023 + 208173.53416749898 * t);
-        Y0 += 0.00000000011 * Math.cos(0.60906260336 + 48713.5615772832 * t);
-        Y0 += 0.00000000015 * Math.cos(6.03373462236 + 1639.069517188 * t);
-        Y0 += 0.00000000014 * Math.cos(5.51224524188 + 25241.820306823 * t);
-        Y0 += 0.00000000014 * Math.cos(5.72095344070 + 52755.49387014719 * t);
-        Y0 += 0.00000000014 * Math.cos(0.48193051968 + 52041.69723356339 * t);
-        Y0 += 0.00000000012 * Math.cos(0.83151252253 + 130363.24963659538 * t);
-        Y0 += 0.00000000011 * Math.cos(3.57268529306 + 104276.83096772949 * t);
-        Y0 += 0.00000000012 * Math.cos(5.63836365571 + 101703.15774082378 * t);
-        Y0 += 0.00000000012 * Math.cos(1.06185654246 + 90989.16285949759 * t);
-        Y0 += 0.00000000011 * Math.cos(1.25165027664 + 102769.65321801379 * t);
-        Y0 += 0.00000000011 * Math.cos(1.61020488121 + 57503.2823915312 * t);
-        Y0 += 0.00000000013 * Math.cos(5.96769060739 + 52027.72755872209 * t);
-        Y0 += 0.00000000013 * Math.cos(1.63784016727 + 78469.89497315978 * t);
-        Y0 += 0.00000000014 * Math.cos(0.28303105851 + 860.3099287528 * t);
-        Y0 += 0.00000000011 * Math.cos(5.96339220303 + 20894.5360827764 * t);
-        Y0 += 0.00000000013 * Math.cos(2.71291064284 + 27250.37784598199 * t);
-        Y0 += 0.00000000012 * Math.cos(5.42728450538 + 51439.92976961659 * t);
-        Y0 += 0.00000000012 * Math.cos(2.65321755374 + 52179.73843641149 * t);
-        Y0 += 0.00000000011 * Math.cos(0.13380048704 + 50536.73676596039 * t);
-        Y0 += 0.00000000012 * Math.cos(0.94217302733 + 53757.76563143139 * t);
-        Y0 += 0.00000000010 * Math.cos(1.22621171910 + 78339.97549599818 * t);
-        Y0 += 0.00000000011 * Math.cos(3.31326356407 + 78800.51393681798 * t);
-        Y0 += 0.00000000010 * Math.cos(2.68789421408 + 84944.93427812219 * t);
-        Y0 += 0.00000000014 * Math.cos(6.24613692649 + 183145.01295611398 * t);
-        Y0 += 0.00000000010 * Math.cos(6.18871346175 + 154408.65498906678 * t);
-        Y0 += 0.00000000011 * Math.cos(5.44812833329 + 636.9962720242 * t);
-        Y0 += 0.00000000010 * Math.cos(1.98851340448 + 53093.73656913019 * t);
-        Y0 += 0.00000000014 * Math.cos(1.36870962052 + 54344.56676543099 * t);
-        Y0 += 0.00000000010 * Math.cos(3.90840385729 + 333.8559407694 * t);
-        Y0 += 0.00000000010 * Math.cos(0.94586399547 + 641.41356173899 * t);
-        Y0 += 0.00000000011 * Math.cos(0.96041649146 + 78057.52387628538 * t);
-        Y0 += 0.00000000012 * Math.cos(6.03701341811 + 26149.62911631439 * t);
-        Y0 += 0.00000000012 * Math.cos(2.76820426669 + 26026.177166834 * t);
-        Y0 += 0.00000000011 * Math.cos(2.43168682439 + 158746.17595363196 * t);
-        Y0 += 0.00000000011 * Math.cos(4.83636793377 + 91805.13062721379 * t);
-        Y0 += 0.00000000010 * Math.cos(2.61011872081 + 6751.0408403458 * t);
-        Y0 += 0.00000000010 * Math.cos(0.79218036562 + 91919.56991589899 * t);
-        Y0 += 0.00000000014 * Math.cos(1.69865910615 + 53124.98189211819 * t);
-        Y0 += 0.00000000010 * Math.cos(1.99206585078 + 77940.20400806518 * t);
-        Y0 += 0.00000000013 * Math.cos(4.08389676067 + 50270.341518208 * t);
-        Y0 += 0.00000000011 * Math.cos(3.68044220158 + 77520.71936418998 * t);
-        Y0 += 0.00000000011 * Math.cos(3.70781443358 + 39763.43339365039 * t);
-        Y0 += 0.00000000010 * Math.cos(5.75274329860 + 114.43928868521 * t);
-        Y0 += 0.00000000009 * Math.cos(1.01216637956 + 130593.29451835579 * t);
-        Y0 += 0.00000000009 * Math.cos(0.36490625518 + 26513.8119180882 * t);
-        Y0 += 0.00000000009 * Math.cos(2.15712612244 + 25661.9943650602 * t);
-        Y0 += 0.00000000013 * Math.cos(5.61622440634 + 26014.60601571519 * t);
-        Y0 += 0.00000000013 * Math.cos(3.18899327846 + 26161.20026743319 * t);
-        Y0 += 0.00000000010 * Math.cos(0.86888264917 + 104991.50985261079 * t);
-        Y0 += 0.00000000010 * Math.cos(5.95581190338 + 52061.40717623499 * t);
-        Y0 += 0.00000000010 * Math.cos(4.42035362502 + 4371.8763667742 * t);
-        Y0 += 0.00000000011 * Math.cos(4.00644107438 + 183674.70392120858 * t);
-        Y0 += 0.00000000010 * Math.cos(3.59637305781 + 23384.2869868986 * t);
-        Y0 += 0.00000000012 * Math.cos(1.90077351195 + 52396.2189255872 * t);
-        Y0 += 0.00000000013 * Math.cos(4.38320598457 + 1073.6090241908 * t);
-        Y0 += 0.00000000009 * Math.cos(2.39902771912 + 103189.13786188899 * t);
-        Y0 += 0.00000000013 * Math.cos(4.08385124235 + 76041.85279012559 * t);
-        Y0 += 0.00000000009 * Math.cos(4.93035759424 + 156547.08861034496 * t);
-        Y0 += 0.00000000009 * Math.cos(5.19425764887 + 28791.5192962498 * t);
-        Y0 += 0.00000000009 * Math.cos(0.77711516175 + 130285.73689738619 * t);
-        Y0 += 0.00000000009 * Math.cos(6.13900158212 + 25131.61398560359 * t);
-        Y0 += 0.00000000011 * Math.cos(5.98671337291 + 4022.2625319642 * t);
-        Y0 += 0.00000000011 * Math.cos(1.81020647842 + 19367.1891622328 * t);
-        Y0 += 0.00000000009 * Math.cos(2.04038725108 + 104984.39630560997 * t);
-        Y0 += 0.00000000009 * Math.cos(5.45614765496 + 76255.15188556358 * t);
-        Y0 += 0.00000000011 * Math.cos(5.95782587167 + 3.9321532631 * t);
-        Y0 += 0.00000000009 * Math.cos(2.84521042237 + 31281.270200372 * t);
-        Y0 += 0.00000000012 * Math.cos(3.79821694912 + 1699.2792165032 * t);
-        Y0 += 0.00000000009 * Math.cos(0.84632922145 + 51130.65144696079 * t);
-        Y0 += 0.00000000010 * Math.cos(4.24458785082 + 19958.6061020676 * t);
-        Y0 += 0.00000000009 * Math.cos(0.39890242427 + 52797.55008398759 * t);
-        Y0 += 0.00000000009 * Math.cos(5.81793329193 + 27360.58416720139 * t);
-        Y0 += 0.00000000009 * Math.cos(3.81505771377 + 24844.41553989579 * t);
-        Y0 += 0.00000000009 * Math.cos(4.99015997103 + 27331.3907432526 * t);
-        Y0 += 0.00000000010 * Math.cos(5.97140853581 + 230239.17477710896 * t);
-        Y0 += 0.00000000009 * Math.cos(2.46893459204 + 156314.11975400719 * t);
-        Y0 += 0.00000000008 * Math.cos(1.08719749627 + 38634.3850806572 * t);
-        Y0 += 0.00000000011 * Math.cos(4.12126538369 + 46046.5092436418 * t);
-        Y0 += 0.00000000009 * Math.cos(5.45527892151 + 52190.03337714999 * t);
-        Y0 += 0.00000000011 * Math.cos(1.01398377196 + 2538.2485042536 * t);
-        Y0 += 0.00000000010 * Math.cos(1.53707512245 + 391318.54712361297 * t);
-        Y0 += 0.00000000008 * Math.cos(3.81834546623 + 26933.9859763254 * t);
-        Y0 += 0.00000000010 * Math.cos(5.47822459894 + 54060.70744656579 * t);
-        Y0 += 0.00000000009 * Math.cos(0.96943014829 + 1685.0521225016 * t);
-        Y0 += 0.00000000009 * Math.cos(0.39954966213 + 65717.22748563958 * t);
-        Y0 += 0.00000000008 * Math.cos(5.66324066149 + 53132.09543911899 * t);
-        Y0 += 0.00000000008 * Math.cos(1.17295053787 + 2324.9494088156 * t);
-        Y0 += 0.00000000009 * Math.cos(2.26575649117 + 22595.33157470459 * t);
-        Y0 += 0.00000000009 * Math.cos(4.01881898285 + 1485.2907067032 * t);
-        Y0 += 0.00000000008 * Math.cos(0.89598602983 + 10681.2505365654 * t);
-        Y0 += 0.00000000009 * Math.cos(5.61147436738 + 52171.87412988529 * t);
-        Y0 += 0.00000000008 * Math.cos(0.59346140745 + 1574.8458012822 * t);
-        Y0 += 0.00000000008 * Math.cos(5.37389235751 + 51876.67988887919 * t);
-        Y0 += 0.00000000010 * Math.cos(2.64362358554 + 49.9966219042 * t);
-        Y0 += 0.00000000010 * Math.cos(1.95510800967 + 2751.5475996916 * t);
-        Y0 += 0.00000000011 * Math.cos(3.21752719962 + 28096.46068073319 * t);
-        Y0 += 0.00000000010 * Math.cos(0.03803981577 + 118828.96374949679 * t);
-        Y0 += 0.00000000008 * Math.cos(5.45338504662 + 77956.15180375299 * t);
-        Y0 += 0.00000000008 * Math.cos(0.89135797231 + 52400.1510788503 * t);
-        Y0 += 0.00000000008 * Math.cos(2.89181901651 + 54824.2611086214 * t);
-        Y0 += 0.00000000010 * Math.cos(1.50538632513 + 240452.46032331996 * t);
-        Y0 += 0.00000000008 * Math.cos(5.27009439447 + 77741.13200662879 * t);
-        Y0 += 0.00000000008 * Math.cos(5.13763418673 + 42790.9652750732 * t);
-        Y0 += 0.00000000008 * Math.cos(3.13545736715 + 52489.992463018 * t);
-        Y0 += 0.00000000008 * Math.cos(2.29664532419 + 156520.30530244438 * t);
-        Y0 += 0.00000000008 * Math.cos(0.58781443842 + 17098.43543614181 * t);
-        Y0 += 0.00000000007 * Math.cos(4.49316157626 + 52206.1331441528 * t);
-        Y0 += 0.00000000007 * Math.cos(3.15085715061 + 50290.905119731 * t);
-        Y0 += 0.00000000010 * Math.cos(2.92673152753 + 22065.64060961 * t);
-        Y0 += 0.00000000008 * Math.cos(1.07948674297 + 51112.49219969609 * t);
-        Y0 += 0.00000000010 * Math.cos(1.70478735166 + 440.8252848776 * t);
-        Y0 += 0.00000000009 * Math.cos(0.57156355893 + 104454.70534051539 * t);
-        Y0 += 0.00000000008 * Math.cos(2.09479344301 + 35077.37084700659 * t);
-        Y0 += 0.00000000008 * Math.cos(4.70706722263 + 120417.67842777158 * t);
-        Y0 += 0.00000000008 * Math.cos(4.83062968915 + 187167.27548807819 * t);
-        Y0 += 0.00000000009 * Math.cos(2.82365374916 + 156507.74908854539 * t);
-        Y0 += 0.00000000007 * Math.cos(5.45465770137 + 51086.09749195479 * t);
-        Y0 += 0.00000000008 * Math.cos(5.15363939201 + 430.5303441391 * t);
-        Y0 += 0.00000000008 * Math.cos(3.96538887746 + 149288.74325784518 * t);
-        Y0 += 0.00000000008 * Math.cos(3.32202684341 + 112231.70171963578 * t);
-        Y0 += 0.00000000009 * Math.cos(4.41737021309 + 76152.05911134499 * t);
-        Y0 += 0.00000000007 * Math.cos(2.13361844991 + 233681.74972207438 * t);
-        Y0 += 0.00000000007 * Math.cos(0.76923088178 + 104248.51979207818 * t);
-        Y0 += 0.00000000008 * Math.cos(3.46520766649 + 77314.53381575279 * t);
-        Y0 += 0.00000000007 * Math.cos(0.02649996061 + 29396.3690369546 * t);
-        Y0 += 0.00000000007 * Math.cos(2.49553241701 + 22779.4372461938 * t);
-        Y0 += 0.00000000007 * Math.cos(4.38534662923 + 26290.15653674829 * t);
-        Y0 += 0.00000000007 * Math.cos(4.41987105557 + 25885.64974640009 * t);
-        Y0 += 0.00000000009 * Math.cos(5.00120036070 + 2703.6161546756 * t);
-        Y0 += 0.00000000007 * Math.cos(1.46712503162 + 156740.71794488319 * t);
-        Y0 += 0.00000000008 * Math.cos(2.98540358627 + 78571.26704569219 * t);
-        Y0 += 0.00000000008 * Math.cos(3.46227249114 + 2014.9816717978 * t);
-        Y0 += 0.00000000009 * Math.cos(3.60323244194 + 24395.7374720718 * t);
-        Y0 += 0.00000000007 * Math.cos(1.57299130322 + 52663.44103440259 * t);
-        Y0 += 0.00000000008 * Math.cos(3.34291932325 + 102872.74599223239 * t);
-        Y0 += 0.00000000009 * Math.cos(4.15307297121 + 24505.94379329119 * t);
-        Y0 += 0.00000000007 * Math.cos(5.14819246138 + 52073.84376488279 * t);
-        Y0 += 0.00000000007 * Math.cos(2.10644528980 + 149846.19399604558 * t);
-        Y0 += 0.00000000007 * Math.cos(2.73815653722 + 77417.62658997139 * t);
-        Y0 += 0.00000000007 * Math.cos(3.99043202484 + 1135.6768718932 * t);
-        Y0 += 0.00000000009 * Math.cos(5.86657971342 + 56259.79478985279 * t);
-        Y0 += 0.00000000009 * Math.cos(1.31330622674 + 18073.7049386502 * t);
-        Y0 += 0.00000000008 * Math.cos(0.16231496773 + 207114.15223730978 * t);
-        Y0 += 0.00000000008 * Math.cos(0.71218709319 + 32808.6171209156 * t);
-        Y0 += 0.00000000007 * Math.cos(1.34578982527 + 23267.071997448 * t);
-        Y0 += 0.00000000007 * Math.cos(1.17624255235 + 28908.7342857004 * t);
-        Y0 += 0.00000000007 * Math.cos(5.92828079032 + 917.9302859818 * t);
-        Y0 += 0.00000000008 * Math.cos(2.80385302808 + 103395.32341032618 * t);
-        Y0 += 0.00000000007 * Math.cos(4.13036001377 + 52145.47942214399 * t);
-        Y0 += 0.00000000007 * Math.cos(0.00761390447 + 208276.62694171758 * t);
-        Y0 += 0.00000000007 * Math.cos(5.79521967115 + 63786.3582415226 * t);
-        Y0 += 0.00000000007 * Math.cos(1.07448219743 + 127098.90328117118 * t);
-        Y0 += 0.00000000008 * Math.cos(1.39088196258 + 103814.80805420138 * t);
-        Y0 += 0.00000000006 * Math.cos(3.50717502178 + 27573.88326263939 * t);
-        Y0 += 0.00000000006 * Math.cos(2.56522679948 + 8989.46770543239 * t);
-        Y0 += 0.00000000007 * Math.cos(4.34204308173 + 102975.83876645098 * t);
-        Y0 += 0.00000000006 * Math.cos(2.26227426560 + 28774.6252361154 * t);
-        Y0 += 0.00000000006 * Math.cos(0.25975811202 + 23401.181047033 * t);
-        Y0 += 0.00000000006 * Math.cos(6.10163893636 + 80462.79676800959 * t);
-        Y0 += 0.00000000008 * Math.cos(3.19469782712 + 579.6875869988 * t);
-        Y0 += 0.00000000008 * Math.cos(0.39455403552 + 51257.8759971666 * t);
-        Y0 += 0.00000000006 * Math.cos(2.04791015101 + 23704.71012679799 * t);
-        Y0 += 0.00000000006 * Math.cos(0.47412222661 + 28471.0961563504 * t);
-        Y0 += 0.00000000007 * Math.cos(3.95910943139 + 1802.3719907218 * t);
-        Y0 += 0.00000000007 * Math.cos(0.04757570199 + 53311.4831550416 * t);
-        Y0 += 0.00000000007 * Math.cos(3.75772081758 + 79994.83177765518 * t);
-        Y0 += 0.00000000007 * Math.cos(3.47532912865 + 52277.768801414 * t);
-        Y0 += 0.00000000006 * Math.cos(4.49776146960 + 53438.96364572659 * t);
-        Y0 += 0.00000000007 * Math.cos(0.23424532162 + 29580.4747084438 * t);
-        Y0 += 0.00000000007 * Math.cos(2.10834895065 + 27388.72995977919 * t);
-        Y0 += 0.00000000007 * Math.cos(0.41368342697 + 24787.0763233692 * t);
-        Y0 += 0.00000000006 * Math.cos(2.20070614265 + 106470.37642667518 * t);
-        Y0 += 0.00000000007 * Math.cos(1.31790121285 + 104127.26777059489 * t);
-        Y0 += 0.00000000007 * Math.cos(5.05330889636 + 27623.8798845436 * t);
-        Y0 += 0.00000000007 * Math.cos(3.75190878844 + 24551.92639860479 * t);
-        Y0 += 0.00000000008 * Math.cos(5.48806422287 + 51861.62010327879 * t);
-        Y0 += 0.00000000008 * Math.cos(2.01472939327 + 51554.06248230919 * t);
-        Y0 += 0.00000000007 * Math.cos(1.27572316405 + 52213.9393187862 * t);
-        Y0 += 0.00000000007 * Math.cos(2.73167050152 + 2974.609954611 * t);
-        Y0 += 0.00000000007 * Math.cos(4.01717883587 + 25572.43927048119 * t);
-        Y0 += 0.00000000007 * Math.cos(4.78803884893 + 26603.3670126672 * t);
-        Y0 += 0.00000000007 * Math.cos(3.81075000430 + 415.5524906121 * t);
-        Y0 += 0.00000000007 * Math.cos(6.19062740919 + 1083.0802322936 * t);
-        Y0 += 0.00000000008 * Math.cos(5.83496057018 + 54190.78795494619 * t);
-        Y0 += 0.00000000007 * Math.cos(0.63875539049 + 3308.4658953804 * t);
-        Y0 += 0.00000000007 * Math.cos(2.73288976570 + 48091.817776444 * t);
-        Y0 += 0.00000000006 * Math.cos(2.27207352577 + 78043.29678228378 * t);
-        Y0 += 0.00000000006 * Math.cos(3.59345495938 + 24822.3356629478 * t);
-        Y0 += 0.00000000006 * Math.cos(0.12929656544 + 53661.0969898516 * t);
-        Y0 += 0.00000000006 * Math.cos(0.35086113339 + 209658.82487420218 * t);
-        Y0 += 0.00000000006 * Math.cos(4.92644191429 + 104426.39416486409 * t);
-        Y0 += 0.00000000006 * Math.cos(2.39715110930 + 25764.39772491679 * t);
-        Y0 += 0.00000000006 * Math.cos(4.97320423795 + 27883.16158529519 * t);
-        Y0 += 0.00000000006 * Math.cos(3.69839341742 + 142871.55835826878 * t);
-        Y0 += 0.00000000006 * Math.cos(1.52227576605 + 156523.53751408719 * t);
-        Y0 += 0.00000000006 * Math.cos(5.16948222242 + 117893.03376878797 * t);
-        Y0 += 0.00000000008 * Math.cos(4.29203597963 + 51120.35650622229 * t);
-        Y0 += 0.00000000006 * Math.cos(6.23369265991 + 225.8292684102 * t);
-        Y0 += 0.00000000006 * Math.cos(3.56663907388 + 5193.3670587978 * t);
-        Y0 += 0.00000000006 * Math.cos(3.11032917996 + 149756.70824819959 * t);
-        Y0 += 0.00000000007 * Math.cos(5.12005781910 + 48997.6604925808 * t);
-        Y0 += 0.00000000008 * Math.cos(2.23399255632 + 53258.88651544199 * t);
-        Y0 += 0.00000000006 * Math.cos(3.49961056081 + 130005.80396999417 * t);
-        Y0 += 0.00000000006 * Math.cos(5.07465642279 + 76777.72930365738 * t);
-        Y0 += 0.00000000006 * Math.cos(4.66798207100 + 47803.9299163742 * t);
-        Y0 += 0.00000000007 * Math.cos(6.08095772039 + 162810.49469943657 * t);
-        Y0 += 0.00000000006 * Math.cos(0.64154839978 + 27441.651886591 * t);
-        Y0 += 0.00000000006 * Math.cos(1.88048397784 + 24734.1543965574 * t);
-        Y0 += 0.00000000006 * Math.cos(3.95287785965 + 155460.92337225519 * t);
-        Y0 += 0.00000000008 * Math.cos(1.91926925056 + 422.6660376129 * t);
-        Y0 += 0.00000000006 * Math.cos(2.81558483589 + 50160.82461135059 * t);
-        Y0 += 0.00000000006 * Math.cos(2.10318926713 + 222.8603229936 * t);
-        Y0 += 0.00000000006 * Math.cos(3.77961930116 + 78262.22495201428 * t);
-        Y0 += 0.00000000006 * Math.cos(3.79600164114 + 76468.45098100159 * t);
-        Y0 += 0.00000000006 * Math.cos(2.19241811447 + 78225.57638908479 * t);
-        Y0 += 0.00000000006 * Math.cos(3.10628150548 + 78597.56536549199 * t);
-        Y0 += 0.00000000007 * Math.cos(5.87457428048 + 30110.1656735384 * t);
-        Y0 += 0.00000000006 * Math.cos(3.63300370506 + 4083.9885067044 * t);
-        Y0 += 0.00000000006 * Math.cos(3.60786932853 + 171292.65789271498 * t);
-        Y0 += 0.00000000006 * Math.cos(2.63023124510 + 29864.334027309 * t);
-        Y0 += 0.00000000006 * Math.cos(6.17498643970 + 22311.4722558394 * t);
-        Y0 += 0.00000000006 * Math.cos(2.81699286653 + 76991.02839909539 * t);
-        Y0 += 0.00000000006 * Math.cos(4.97892299151 + 21716.02677480 * t);
-        Y0 += 0.00000000005 * Math.cos(5.40188161644 + 27410.5807891056 * t);
-        Y0 += 0.00000000005 * Math.cos(3.40333606836 + 24765.2254940428 * t);
-        Y0 += 0.00000000006 * Math.cos(0.12287107983 + 51092.7260508548 * t);
-        Y0 += 0.00000000006 * Math.cos(6.26396450919 + 179172.74704605396 * t);
-        Y0 += 0.00000000007 * Math.cos(1.20914785176 + 34102.10134449819 * t);
-        Y0 += 0.00000000006 * Math.cos(3.98658256476 + 31903.01400121119 * t);
-        Y0 += 0.00000000006 * Math.cos(4.81863512004 + 20272.7922819372 * t);
-        Y0 += 0.00000000005 * Math.cos(0.59743867876 + 155475.15046625677 * t);
-        Y0 += 0.00000000006 * Math.cos(2.99448492312 + 1884.9011634174 * t);
-        Y0 += 0.00000000006 * Math.cos(1.29004214195 + 104874.18998439058 * t);
-        Y0 += 0.00000000007 * Math.cos(6.08314945100 + 9745.3205558566 * t);
-        Y0 += 0.00000000005 * Math.cos(4.57176510415 + 128747.35003836859 * t);
-        Y0 += 0.00000000005 * Math.cos(3.48020412230 + 26500.27423844859 * t);
-        Y0 += 0.00000000005 * Math.cos(5.32501356250 + 25675.5320446998 * t);
-        Y0 += 0.00000000005 * Math.cos(0.67567879748 + 189853.99758261938 * t);
-        Y0 += 0.00000000005 * Math.cos(5.62586823874 + 487.6347512542 * t);
-        Y0 += 0.00000000005 * Math.cos(4.12117505892 + 53551.5800829942 * t);
-        Y0 += 0.00000000005 * Math.cos(5.05847825453 + 60170.3347251726 * t);
-        Y0 += 0.00000000005 * Math.cos(4.48575981388 + 27353.47062020059 * t);
-        Y0 += 0.00000000005 * Math.cos(0.45209405317 + 628.8515860501 * t);
-        Y0 += 0.00000000005 * Math.cos(2.04047293459 + 189386.03259226495 * t);
-        Y0 += 0.00000000007 * Math.cos(3.24752363205 + 169093.57054942798 * t);
-        Y0 += 0.00000000006 * Math.cos(3.27898581061 + 25462.2329492618 * t);
-        Y0 += 0.00000000006 * Math.cos(5.52623187419 + 26713.57333388659 * t);
-        Y0 += 0.00000000007 * Math.cos(1.39980699002 + 2641.3412784722 * t);
-        Y0 += 0.00000000006 * Math.cos(4.69852322879 + 25440.89230825939 * t);
-        Y0 += 0.00000000005 * Math.cos(1.13017778403 + 52812.8025551726 * t);
-        Y0 += 0.00000000006 * Math.cos(6.23315922928 + 156531.30018480319 * t);
-        Y0 += 0.00000000006 * Math.cos(2.82802951228 + 122444.98726584678 * t);
-        Y0 += 0.00000000005 * Math.cos(5.91150949505 + 26235.9818660005 * t);
-        Y0 += 0.00000000006 * Math.cos(0.64362124464 + 3492.5715668696 * t);
-        Y0 += 0.00000000005 * Math.cos(3.16675569939 + 26034.8069892598 * t);
-        Y0 += 0.00000000005 * Math.cos(5.63846198541 + 26140.99929388859 * t);
-        Y0 += 0.00000000006 * Math.cos(4.41863890724 + 13675.5302520762 * t);
-        Y0 += 0.00000000006 * Math.cos(2.30069536250 + 28213.78054895339 * t);
-        Y0 += 0.00000000005 * Math.cos(2.72683369817 + 127791.06088239799 * t);
-        Y0 += 0.00000000005 * Math.cos(2.79855313555 + 104035.22069664019 * t);
-        Y0 += 0.00000000005 * Math.cos(2.16612728193 + 1263.15736257819 * t);
-        Y0 += 0.00000000006 * Math.cos(3.26180559114 + 437.6438911399 * t);
-        Y0 += 0.00000000005 * Math.cos(2.17730624219 + 52098.05573916449 * t);
-        Y0 += 0.00000000005 * Math.cos(1.17064954712 + 65538.25598994759 * t);
-        Y0 += 0.00000000005 * Math.cos(3.31240476519 + 104301.61594439259 * t);
-        Y0 += 0.00000000005 * Math.cos(4.76122192085 + 78697.42116259939 * t);
-        Y0 += 0.00000000005 * Math.cos(5.20657468818 + 1243.4876016784 * t);
-        Y0 += 0.00000000005 * Math.cos(2.85173407545 + 2686.7220945412 * t);
-        Y0 += 0.00000000005 * Math.cos(4.82516506007 + 104401.60918820098 * t);
-        Y0 += 0.00000000005 * Math.cos(5.03758504482 + 53654.67285721279 * t);
-        Y0 += 0.00000000005 * Math.cos(2.30415192529 + 23866.04650697719 * t);
-        Y0 += 0.00000000005 * Math.cos(4.57253368744 + 51006.21803173979 * t);
-        Y0 += 0.00000000006 * Math.cos(2.99064022137 + 104241.40624507738 * t);
-        Y0 += 0.00000000005 * Math.cos(5.36734313790 + 104668.00443595338 * t);
-        Y0 += 0.00000000004 * Math.cos(4.69357830395 + 76532.58707178998 * t);
-        Y0 += 0.00000000005 * Math.cos(0.50200123282 + 24491.71669928959 * t);
-        Y0 += 0.00000000005 * Math.cos(3.59914095117 + 23389.451694197 * t);
-        Y0 += 0.00000000005 * Math.cos(5.20607673363 + 28786.3545889514 * t);
-        Y0 += 0.00000000004 * Math.cos(5.84756896317 + 31775.5335105262 * t);
-        Y0 += 0.00000000004 * Math.cos(2.95764872163 + 20400.2727726222 * t);
-        Y0 += 0.00000000005 * Math.cos(4.52541301080 + 78265.19389743089 * t);
-        Y0 += 0.00000000006 * Math.cos(0.78206719980 + 51688.1715318942 * t);
-        Y0 += 0.00000000005 * Math.cos(2.53934989272 + 58220.0348645238 * t);
-        Y0 += 0.00000000004 * Math.cos(1.16733607750 + 35211.47989659159 * t);
-        Y0 += 0.00000000004 * Math.cos(1.35469630012 + 16964.3263865568 * t);
-        Y0 += 0.00000000005 * Math.cos(6.27736599262 + 76137.83201734339 * t);
-        Y0 += 0.00000000004 * Math.cos(5.79724758149 + 27039.97976483379 * t);
-        Y0 += 0.00000000004 * Math.cos(3.00797010331 + 25135.8265183146 * t);
-        Y0 += 0.00000000005 * Math.cos(3.02879597074 + 25778.62481891839 * t);
-        Y0 += 0.00000000005 * Math.cos(5.77642171406 + 26397.18146422999 * t);
-        Y0 += 0.00000000005 * Math.cos(2.45203846176 + 78373.91574594198 * t);
-        Y0 += 0.00000000004 * Math.cos(0.10837463046 + 33480.357543659 * t);
-        Y0 += 0.00000000004 * Math.cos(2.41365774716 + 18695.4487394894 * t);
-        Y0 += 0.00000000005 * Math.cos(5.31103491600 + 703.6331846174 * t);
-        Y0 += 0.00000000004 * Math.cos(3.53618772681 + 156377.85565231058 * t);
-        Y0 += 0.00000000004 * Math.cos(4.88536855567 + 24182.4383766338 * t);
-        Y0 += 0.00000000005 * Math.cos(0.75362139040 + 2015.6710861598 * t);
-        Y0 += 0.00000000004 * Math.cos(4.84402630975 + 129586.31932611899 * t);
-        Y0 += 0.00000000004 * Math.cos(0.41914706804 + 199599.31813847595 * t);
-        Y0 += 0.00000000004 * Math.cos(5.33219851688 + 76998.14194609619 * t);
-        Y0 += 0.00000000004 * Math.cos(1.24487525140 + 1368.660252845 * t);
-        Y0 += 0.00000000004 * Math.cos(6.20344076250 + 45424.76544280259 * t);
-        Y0 += 0.00000000004 * Math.cos(3.82794287315 + 28928.40404660019 * t);
-        Y0 += 0.00000000004 * Math.cos(4.97727481165 + 23247.4022365482 * t);
-        Y0 += 0.00000000004 * Math.cos(0.78108419173 + 20452.8694122218 * t);
-        Y0 += 0.00000000004 * Math.cos(1.74094818589 + 31722.9368709266 * t);
-        Y0 += 0.00000000004 * Math.cos(0.73252151870 + 26238.95081141709 * t);
-        Y0 += 0.00000000004 * Math.cos(1.20756668103 + 52355.883413433 * t);
-        Y0 += 0.00000000004 * Math.cos(1.89262749454 + 51538.81001112419 * t);
-        Y0 += 0.00000000004 * Math.cos(2.12864958126 + 32278.926155821 * t);
-        Y0 += 0.00000000004 * Math.cos(0.39338279636 + 19896.8801273274 * t);
-        Y0 += 0.00000000004 * Math.cos(0.13108394311 + 78905.12298646157 * t);
-        Y0 += 0.00000000004 * Math.cos(1.42991389286 + 52336.2136525332 * t);
-        Y0 += 0.00000000004 * Math.cos(4.11596381659 + 50912.6489205702 * t);
-        Y0 += 0.00000000005 * Math.cos(3.55365309754 + 26090.8720869908 * t);
-        Y0 += 0.00000000005 * Math.cos(5.25156458726 + 26084.93419615759 * t);
-        Y0 += 0.00000000004 * Math.cos(1.77632201645 + 25923.46723098479 * t);
-        Y0 += 0.00000000004 * Math.cos(0.74571036118 + 26252.33905216361 * t);
-        Y0 += 0.00000000004 * Math.cos(3.45962912770 + 106262.81204951399 * t);
-        Y0 += 0.00000000005 * Math.cos(5.55461968829 + 13705.8571130806 * t);
-        Y0 += 0.00000000005 * Math.cos(3.25059799651 + 38469.94917006779 * t);
-        Y0 += 0.00000000005 * Math.cos(3.12816538610 + 18227.483749135 * t);
-        Y0 += 0.00000000005 * Math.cos(5.67705229870 + 33948.3225340134 * t);
-        Y0 += 0.00000000004 * Math.cos(2.78749020522 + 74935.57376844239 * t);
-        Y0 += 0.00000000004 * Math.cos(5.08828008747 + 26130.7862164776 * t);
-        Y0 += 0.00000000004 * Math.cos(3.71693759733 + 26045.0200666708 * t);
-        Y0 += 0.00000000005 * Math.cos(4.43555583939 + 51102.19725895759 * t);
-        Y0 += 0.00000000004 * Math.cos(6.19718375992 + 104771.09721017198 * t);
-        Y0 += 0.00000000004 * Math.cos(0.26322316371 + 19336.86230122839 * t);
-        Y0 += 0.00000000004 * Math.cos(1.76945825889 + 18319.5365848796 * t);
-        Y0 += 0.00000000004 * Math.cos(0.75257411874 + 33856.2696982688 * t);
-        Y0 += 0.00000000005 * Math.cos(2.23665069420 + 51315.49635439559 * t);
-        Y0 += 0.00000000004 * Math.cos(1.69359058279 + 159969.99379441059 * t);
-        Y0 += 0.00000000004 * Math.cos(2.89301646158 + 25939.82441714789 * t);
-        Y0 += 0.00000000005 * Math.cos(3.45474588143 + 107692.22499299659 * t);
-        Y0 += 0.00000000005 * Math.cos(1.47989657697 + 49637.55777889479 * t);
-        Y0 += 0.00000000004 * Math.cos(2.13958521874 + 24292.64469785319 * t);
-        Y0 += 0.00000000005 * Math.cos(5.34571928246 + 77929.85348395319 * t);
-        Y0 += 0.00000000004 * Math.cos(2.13537389331 + 106684.80895916879 * t);
-        Y0 += 0.00000000004 * Math.cos(1.30241374700 + 25248.9338538238 * t);
-        Y0 += 0.00000000004 * Math.cos(1.21961863062 + 26926.87242932459 * t);
-        Y0 += 0.00000000005 * Math.cos(6.25905047664 + 130020.03106399579 * t);
-        Y0 += 0.00000000004 * Math.cos(0.16908897765 + 42430.4857272918 * t);
-        Y0 += 0.00000000004 * Math.cos(0.65996952307 + 24712.1293417284 * t);
-        Y0 += 0.00000000004 * Math.cos(1.67938382417 + 130907.48069822539 * t);
-        Y0 += 0.00000000004 * Math.cos(0.49273474013 + 76352.50994150538 * t);
-        Y0 += 0.00000000004 * Math.cos(3.03818840694 + 8044.5250639284 * t);
-        Y0 += 0.00000000004 * Math.cos(2.24959479186 + 50690.51557644519 * t);
-        Y0 += 0.00000000003 * Math.cos(4.11860713513 + 76094.94894243999 * t);
-        Y0 += 0.00000000004 * Math.cos(5.11517156658 + 27047.0260015318 * t);
-        Y0 += 0.00000000004 * Math.cos(3.69004611822 + 25128.78028161659 * t);
-        Y0 += 0.00000000003 * Math.cos(2.87423294156 + 25980.59783464459 * t);
-        Y0 += 0.00000000003 * Math.cos(5.93098474324 + 26195.2084485038 * t);
-        Y0 += 0.00000000004 * Math.cos(3.06482161328 + 52164.76058288449 * t);
-        Y0 += 0.00000000004 * Math.cos(0.98879727436 + 215941.90072419358 * t);
-        Y0 += 0.00000000005 * Math.cos(4.86374437755 + 45455.092303807 * t);
-        Y0 += 0.00000000004 * Math.cos(6.09264875397 + 151199.94274106238 * t);
-        Y0 += 0.00000000004 * Math.cos(3.84907251953 + 25991.92391435639 * t);
-        Y0 += 0.00000000004 * Math.cos(4.95614516527 + 26183.88236879199 * t);
-        Y0 += 0.00000000005 * Math.cos(6.06890934253 + 10059.5067357262 * t);
-        Y0 += 0.00000000004 * Math.cos(2.78312246204 + 48153.54375118419 * t);
-        Y0 += 0.00000000004 * Math.cos(5.16058547691 + 16496.3613962024 * t);
-        Y0 += 0.00000000004 * Math.cos(3.64463220789 + 35679.44488694599 * t);
-        Y0 += 0.00000000004 * Math.cos(2.31682392343 + 51040.1294112552 * t);
-        Y0 += 0.00000000004 * Math.cos(0.89612134983 + 128843.32926558638 * t);
-        Y0 += 0.00000000004 * Math.cos(0.91042238998 + 52015.39891376359 * t);
-        Y0 += 0.00000000003 * Math.cos(6.06256841288 + 23113.2931869632 * t);
-        Y0 += 0.00000000003 * Math.cos(2.74264927192 + 29062.5130961852 * t);
-        Y0 += 0.00000000003 * Math.cos(4.85231198714 + 25794.492357197 * t);
-        Y0 += 0.00000000003 * Math.cos(3.95290569766 + 26381.3139259514 * t);
-        Y0 += 0.00000000003 * Math.cos(4.53666662059 + 117077.06600107178 * t);
-        Y0 += 0.00000000004 * Math.cos(1.27827004084 + 113455.51956041438 * t);
-        Y0 += 0.00000000003 * Math.cos(1.74369273900 + 9123.5767550174 * t);
-        Y0 += 0.00000000004 * Math.cos(5.49977739982 + 23543.23050468179 * t);
-        Y0 += 0.00000000004 * Math.cos(3.30544028498 + 28632.5757784666 * t);
-        Y0 += 0.00000000003 * Math.cos(0.77597702447 + 26279.35140768579 * t);
-        Y0 += 0.00000000003 * Math.cos(1.74605535315 + 25896.4548754626 * t);
-        Y0 += 0.00000000003 * Math.cos(4.84401273911 + 143980.93691036216 * t);
-        Y0 += 0.00000000004 * Math.cos(2.60606940279 + 25998.4173937282 * t);
-        Y0 += 0.00000000004 * Math.cos(6.19914828201 + 26177.38888942019 * t);
-        Y0 += 0.00000000004 * Math.cos(5.74351106248 + 50951.98844236979 * t);
-        Y0 += 0.00000000003 * Math.cos(1.26642446783 + 49850.85687433279 * t);
-        Y0 += 0.00000000004 * Math.cos(4.75573366952 + 14235.5480781752 * t);
-        Y0 += 0.00000000004 * Math.cos(4.04948401528 + 37940.25820497319 * t);
-        Y0 += 0.00000000004 * Math.cos(2.15457403796 + 261988.40996783535 * t);
-        Y0 += 0.00000000003 * Math.cos(1.62529527167 + 41494.55574658299 * t);
-        Y0 += 0.00000000004 * Math.cos(4.57562203112 + 32217.2001810808 * t);
-        Y0 += 0.00000000004 * Math.cos(1.13276960181 + 51995.7291528638 * t);
-        Y0 += 0.00000000003 * Math.cos(5.60306507247 + 154308.66174525839 * t);
-        Y0 += 0.00000000003 * Math.cos(4.90725652630 + 78397.81847430758 * t);
-        Y0 += 0.00000000004 * Math.cos(0.74705899090 + 49424.25868345679 * t);
-        Y0 += 0.00000000003 * Math.cos(1.65138805728 + 202420.14928260217 * t);
-        Y0 += 0.00000000003 * Math.cos(3.28257147962 + 79116.90580647459 * t);
-        Y0 += 0.00000000003 * Math.cos(0.25268995906 + 26114.201461374 * t);
-        Y0 += 0.00000000003 * Math.cos(2.26934241856 + 26061.60482177439 * t);
-        Y0 += 0.00000000003 * Math.cos(0.76377303552 + 112545.88789950538 * t);
-        Y0 += 0.00000000003 * Math.cos(1.53998283633 + 27993.3679065146 * t);
-        Y0 += 0.00000000004 * Math.cos(1.48359617562 + 156954.01704032118 * t);
-        Y0 += 0.00000000003 * Math.cos(4.96130874142 + 25344.9130810416 * t);
-        Y0 += 0.00000000004 * Math.cos(4.16132549519 + 192828.60753723037 * t);
-        Y0 += 0.00000000003 * Math.cos(1.41397155639 + 191.4482661116 * t);
-        Y0 += 0.00000000003 * Math.cos(2.35998158508 + 130446.14426677099 * t);
-        Y0 += 0.00000000003 * Math.cos(0.58877390822 + 26.2983197998 * t);
-        Y0 += 0.00000000003 * Math.cos(6.14909241029 + 23420.85080793279 * t);
-        Y0 += 0.00000000003 * Math.cos(2.65612527451 + 28754.9554752156 * t);
-        Y0 += 0.00000000004 * Math.cos(5.30569233154 + 117.3198682202 * t);
-        Y0 += 0.00000000003 * Math.cos(5.91402019226 + 184834.07909520617 * t);
-        Y0 += 0.00000000004 * Math.cos(5.00370301079 + 50476.52706664519 * t);
-        Y0 += 0.00000000003 * Math.cos(2.64378251337 + 52072.0240945678 * t);
-        Y0 += 0.00000000003 * Math.cos(2.04712691944 + 77622.29586298359 * t);
-        Y0 += 0.00000000003 * Math.cos(5.19234087353 + 52016.5045483562 * t);
-        Y0 += 0.00000000003 * Math.cos(0.11683553157 + 25970.58327335399 * t);
-        Y0 += 0.00000000003 * Math.cos(2.40519684605 + 26205.22300979439 * t);
-        Y0 += 0.00000000004 * Math.cos(3.70857620718 + 27511.4678735372 * t);
-        Y0 += 0.00000000004 * Math.cos(5.09664147762 + 24664.3384096112 * t);
-        Y0 += 0.00000000003 * Math.cos(3.60635808002 + 24079.34560241519 * t);
-        Y0 += 0.00000000003 * Math.cos(0.72953121469 + 33917.99567300899 * t);
-        Y0 += 0.00000000003 * Math.cos(1.79250116293 + 18257.8106101394 * t);
-        Y0 += 0.00000000003 * Math.cos(0.90477621292 + 220025.88923089796 * t);
-        Y0 += 0.00000000004 * Math.cos(2.19435190001 + 61921.12683900499 * t);
-        Y0 += 0.00000000003 * Math.cos(3.67050911713 + 8482.1631932784 * t);
-        Y0 += 0.00000000003 * Math.cos(3.87625546504 + 226796.59983214356 * t);
-        Y0 += 0.00000000003 * Math.cos(1.31319711766 + 222224.97657418498 * t);
-        Y0 += 0.00000000003 * Math.cos(5.87130809057 + 78249.48233072099 * t);
-        Y0 += 0.00000000004 * Math.cos(1.48902081585 + 158116.49174472898 * t);
-        Y0 += 0.00000000003 * Math.cos(0.35052613743 + 107679.74822257696 * t);
-        Y0 += 0.00000000003 * Math.cos(0.31258950206 + 26387.0295358434 * t);
-        Y0 += 0.00000000003 * Math.cos(1.73728166781 + 25936.85547173129 * t);
-        Y0 += 0.00000000003 * Math.cos(3.47716392063 + 26983.9825982296 * t);
-        Y0 += 0.00000000003 * Math.cos(5.32805376417 + 25191.8236849188 * t);
-        Y0 += 0.00000000003 * Math.cos(5.46073958753 + 79487.52726550119 * t);
-        Y0 += 0.00000000003 * Math.cos(1.54880317183 + 50490.75416064679 * t);
-        Y0 += 0.00000000003 * Math.cos(0.33667155775 + 251775.12442162436 * t);
-        Y0 += 0.00000000003 * Math.cos(3.12587906085 + 55484.27217852879 * t);
-        Y0 += 0.00000000003 * Math.cos(3.35660316298 + 205260.65018762815 * t);
-        Y0 += 0.00000000003 * Math.cos(6.10516130974 + 1382.8873468466 * t);
-        Y0 += 0.00000000003 * Math.cos(3.15734817044 + 146505.58156934578 * t);
-        Y0 += 0.00000000003 * Math.cos(4.70646783103 + 5019.9184874132 * t);
-        Y0 += 0.00000000003 * Math.cos(5.41521179939 + 1471.7530270636 * t);
-        Y0 += 0.00000000003 * Math.cos(1.19647848516 + 2820.8311441262 * t);
-        Y0 += 0.00000000003 * Math.cos(3.47413746108 + 24510.5595991264 * t);
-        Y0 += 0.00000000003 * Math.cos(5.33108022372 + 27665.246684022 * t);
-        Y0 += 0.00000000004 * Math.cos(5.77018377851 + 25810.86814783279 * t);
-        Y0 += 0.00000000004 * Math.cos(3.03503390629 + 26364.9381353156 * t);
-        Y0 += 0.00000000003 * Math.cos(5.01481009275 + 179966.86716554638 * t);
-        Y0 += 0.00000000004 * Math.cos(4.33432698720 + 128106.31931499895 * t);
-        Y0 += 0.00000000003 * Math.cos(1.92656985885 + 50600.9604818662 * t);
-        Y0 += 0.00000000003 * Math.cos(6.09093416793 + 110395.84114767218 * t);
-        Y0 += 0.00000000003 * Math.cos(6.02863621669 + 26202.3022484876 * t);
-        Y0 += 0.00000000003 * Math.cos(5.77135105714 + 1577.3435424478 * t);
-        Y0 += 0.00000000003 * Math.cos(2.48974578151 + 184526.52147423658 * t);
-        Y0 += 0.00000000003 * Math.cos(6.13912071583 + 29000.787121445 * t);
-        Y0 += 0.00000000003 * Math.cos(2.66609696897 + 23175.01916170339 * t);
-        Y0 += 0.00000000002 * Math.cos(3.73235165225 + 24601.92302050899 * t);
-        Y0 += 0.00000000003 * Math.cos(6.07147026831 + 49201.1963285374 * t);
-        Y0 += 0.00000000003 * Math.cos(4.25494225394 + 143164.96914264598 * t);
-        Y0 += 0.00000000003 * Math.cos(0.81593599477 + 51734.98099827079 * t);
-        Y0 += 0.00000000002 * Math.cos(3.21160734753 + 229463.65216578495 * t);
-        Y0 += 0.00000000003 * Math.cos(5.30206948415 + 963.4027029714 * t);
-        Y0 += 0.00000000003 * Math.cos(1.27452500023 + 25914.45457018961 * t);
-        Y0 += 0.00000000003 * Math.cos(1.24750737739 + 26261.35171295879 * t);
-        Y0 += 0.00000000003 * Math.cos(3.64962054328 + 51745.27593900929 * t);
-        Y0 += 0.00000000003 * Math.cos(1.33150568827 + 54879.422437824 * t);
-        Y0 += 0.00000000003 * Math.cos(2.24581935743 + 15406.65260500879 * t);
-        Y0 += 0.00000000002 * Math.cos(1.46486531145 + 25554.28002321649 * t);
-        Y0 += 0.00000000002 * Math.cos(1.05716706617 + 26621.52625993189 * t);
-        Y0 += 0.00000000003 * Math.cos(3.63673845964 + 25530.4524033738 * t);
-        Y0 += 0.00000000003 * Math.cos(5.16847922516 + 26645.3538797746 * t);
-        Y0 += 0.00000000003 * Math.cos(3.46486175917 + 25626.5667101198 * t);
-        Y0 += 0.00000000003 * Math.cos(5.34035592563 + 26549.23957302859 * t);
-        Y0 += 0.00000000003 * Math.cos(3.77281945049 + 20956.2620575166 * t);
-        Y0 += 0.00000000003 * Math.cos(5.03239823431 + 31219.5442256318 * t);
-        Y0 += 0.00000000003 * Math.cos(2.87469047879 + 283524.35961235073 * t);
-        Y0 += 0.00000000002 * Math.cos(2.91928536931 + 210921.98223678036 * t);
-        Y0 += 0.00000000002 * Math.cos(3.01852194681 + 21202.093703746 * t);
-        Y0 += 0.00000000002 * Math.cos(5.78669573799 + 30973.7125794024 * t);
-        Y0 += 0.00000000003 * Math.cos(0.91363958260 + 76358.24465978218 * t);
-        Y0 += 0.00000000003 * Math.cos(1.16154088625 + 97466.46267636596 * t);
-        Y0 += 0.00000000002 * Math.cos(1.48398406791 + 190495.41114435835 * t);
-        Y0 += 0.00000000002 * Math.cos(2.27754325505 + 5635.0337293524 * t);
-        Y0 += 0.00000000003 * Math.cos(5.54528574622 + 25361.421121704 * t);
-        Y0 += 0.00000000003 * Math.cos(3.25993193858 + 26814.38516144439 * t);
-        Y0 += 0.00000000002 * Math.cos(5.95736615747 + 57369.17334194619 * t);
-        Y0 += 0.00000000003 * Math.cos(3.84445897700 + 52186.8519834123 * t);
-        Y0 += 0.00000000002 * Math.cos(0.10098432708 + 5687.630368952 * t);
-        Y0 += 0.00000000002 * Math.cos(1.06541336121 + 31127.49138988719 * t);
-        Y0 += 0.00000000002 * Math.cos(1.45661901641 + 21048.3148932612 * t);
-        Y0 += 0.00000000002 * Math.cos(4.88076203498 + 27133.05797776179 * t);
-        Y0 += 0.00000000003 * Math.cos(4.35294230915 + 222244.64633508476 * t);
-        Y0 += 0.00000000003 * Math.cos(1.52452494294 + 67608.75720795698 * t);
-        Y0 += 0.00000000003 * Math.cos(4.55603852700 + 5815.11085963699 * t);
-        Y0 += 0.00000000003 * Math.cos(4.50068949383 + 128857.55635958798 * t);
-        Y0 += 0.00000000003 * Math.cos(3.16048516532 + 21650.38893320061 * t);
-        Y0 += 0.00000000003 * Math.cos(5.64473251948 + 30525.41734994779 * t);
-        Y0 += 0.00000000003 * Math.cos(1.88855081937 + 2352.8661537718 * t);
-        Y0 += 0.00000000002 * Math.cos(0.61090203417 + 29266.0489321418 * t);
-        Y0 += 0.00000000002 * Math.cos(1.68643488525 + 102129.75593169978 * t);
-        Y0 += 0.00000000003 * Math.cos(2.78460866874 + 735.8765135318 * t);
-        Y0 += 0.00000000003 * Math.cos(2.77323027693 + 53338.28098755619 * t);
-        Y0 += 0.00000000002 * Math.cos(5.43265775269 + 242985.40360737636 * t);
-        Y0 += 0.00000000003 * Math.cos(4.72365570387 + 23549.6546373206 * t);
-        Y0 += 0.00000000002 * Math.cos(3.36458907123 + 127261.36991730338 * t);
-        Y0 += 0.00000000002 * Math.cos(5.34557611286 + 54862.5283776896 * t);
-        Y0 += 0.00000000003 * Math.cos(1.28968303726 + 7768.3665566946 * t);
-        Y0 += 0.00000000003 * Math.cos(1.82596797402 + 24971.41104247999 * t);
-        Y0 += 0.00000000003 * Math.cos(0.69606440360 + 27204.3952406684 * t);
-        Y0 += 0.00000000002 * Math.cos(3.44738180328 + 26165.65368555809 * t);
-        Y0 += 0.00000000002 * Math.cos(1.20703571117 + 24815.222115947 * t);
-        Y0 += 0.00000000002 * Math.cos(1.61710949142 + 267649.74201698754 * t);
-        Y0 += 0.00000000003 * Math.cos(5.17245782566 + 134.109049585 * t);
-        Y0 += 0.00000000003 * Math.cos(1.56133414368 + 206584.46127221518 * t);
-        Y0 += 0.00000000002 * Math.cos(3.20945918034 + 23976.2528281966 * t);
-        Y0 += 0.00000000002 * Math.cos(1.95494649553 + 309.2783226558 * t);
-        Y0 += 0.00000000002 * Math.cos(0.88420623496 + 1155.361157407 * t);
-        Y0 += 0.00000000003 * Math.cos(5.58005355370 + 49976.71893986139 * t);
-        Y0 += 0.00000000003 * Math.cos(1.11744370489 + 27161.512165765 * t);
-        Y0 += 0.00000000002 * Math.cos(4.55377851088 + 27151.21722502649 * t);
-        Y0 += 0.00000000003 * Math.cos(0.04149717596 + 29050.7837433492 * t);
-        Y0 += 0.00000000003 * Math.cos(2.48053520166 + 23125.0225397992 * t);
-        Y0 += 0.00000000002 * Math.cos(0.49287409814 + 87648.55043279778 * t);
-        Y0 += 0.00000000002 * Math.cos(1.99024542711 + 25788.776747305 * t);
-        Y0 += 0.00000000002 * Math.cos(2.21400317955 + 289185.69166150296 * t);
-        Y0 += 0.00000000002 * Math.cos(1.84764313777 + 32973.05303150501 * t);
-        Y0 += 0.00000000002 * Math.cos(5.35359251167 + 78484.12206716138 * t);
-        Y0 += 0.00000000002 * Math.cos(4.84459493300 + 50373.43429242659 * t);
-        Y0 += 0.00000000003 * Math.cos(1.01624578623 + 246113.79237247216 * t);
-        Y0 += 0.00000000002 * Math.cos(0.39721293103 + 543.9180590962 * t);
-        Y0 += 0.00000000003 * Math.cos(1.70612964175 + 75085.56363415498 * t);
-        Y0 += 0.00000000003 * Math.cos(4.90340116609 + 196156.74319351057 * t);
-        Y0 += 0.00000000002 * Math.cos(3.44266551407 + 225687.22128005016 * t);
-        Y0 += 0.00000000002 * Math.cos(5.17281822358 + 156534.53239644598 * t);
-        Y0 += 0.00000000003 * Math.cos(3.14119557868 + 180496.55813064099 * t);
-        Y0 += 0.00000000003 * Math.cos(2.73574689557 + 78115.63070029629 * t);
-        Y0 += 0.00000000002 * Math.cos(4.99251162267 + 51760.25379253629 * t);
-        Y0 += 0.00000000002 * Math.cos(3.58342272703 + 4398.17468657401 * t);
-        Y0 += 0.00000000002 * Math.cos(3.55523971481 + 30486.0778281482 * t);
-        Y0 += 0.00000000002 * Math.cos(5.24997796999 + 21689.72845500019 * t);
-        Y0 += 0.00000000003 * Math.cos(1.74089824235 + 78112.66175487968 * t);
-        Y0 += 0.00000000002 * Math.cos(3.70878134452 + 95.9792272178 * t);
-        Y0 += 0.00000000002 * Math.cos(2.78958694468 + 1898.3512179396 * t);
-        Y0 += 0.00000000002 * Math.cos(3.64570275924 + 235746.72801577636 * t);
-        Y0 += 0.00000000002 * Math.cos(3.50852936833 + 621.7438008392 * t);
-        Y0 += 0.00000000002 * Math.cos(3.20346776831 + 144916.86689107098 * t);
-        Y0 += 0.00000000002 * Math.cos(5.65645027349 + 26024.1672432708 * t);
-        Y0 += 0.00000000002 * Math.cos(3.14876741131 + 26151.6390398776 * t);
-        Y0 += 0.00000000002 * Math.cos(5.88732323489 + 249268.47945736776 * t);
-        Y0 += 0.00000000003 * Math.cos(2.73644560356 + 42116.29954742219 * t);
-        Y0 += 0.00000000002 * Math.cos(1.76809181777 + 4525.655177259 * t);
-        Y0 += 0.00000000003 * Math.cos(4.31127477508 + 25949.3856447035 * t);
-        Y0 += 0.00000000003 * Math.cos(4.49394290972 + 26226.4206384449 * t);
-        Y0 += 0.00000000002 * Math.cos(1.47978756571 + 41520.8540663828 * t);
-        Y0 += 0.00000000003 * Math.cos(0.50196484662 + 65851.33653522459 * t);
-        Y0 += 0.00000000003 * Math.cos(0.33246489326 + 26375.791001644 * t);
-        Y0 += 0.00000000003 * Math.cos(2.18956748437 + 25800.0152815044 * t);
-        Y0 += 0.00000000003 * Math.cos(2.22716383153 + 23581.2581773176 * t);
-        Y0 += 0.00000000003 * Math.cos(0.29486854609 + 28594.5481058308 * t);
-        Y0 += 0.00000000002 * Math.cos(5.75081777002 + 73891.83305794839 * t);
-        Y0 += 0.00000000002 * Math.cos(1.98184360182 + 1593.0050485469 * t);
-        Y0 += 0.00000000002 * Math.cos(2.60932927551 + 138319.60486120995 * t);
-        Y0 += 0.00000000002 * Math.cos(5.12632591221 + 1279.794572628 * t);
-        Y0 += 0.00000000002 * Math.cos(1.36330743614 + 197266.12174560397 * t);
-        Y0 += 0.00000000002 * Math.cos(2.08857795426 + 71378.55953479178 * t);
-        Y0 += 0.00000000003 * Math.cos(2.65879027753 + 26051.25457864469 * t);
-        Y0 += 0.00000000003 * Math.cos(6.14642740727 + 26124.55170450369 * t);
-        Y0 += 0.00000000002 * Math.cos(3.91497249728 + 52367.25454925999 * t);
-        Y0 += 0.00000000002 * Math.cos(2.56976964633 + 51949.9770147382 * t);
-        Y0 += 0.00000000002 * Math.cos(0.98913727679 + 175730.17210108857 * t);
-        Y0 += 0.00000000002 * Math.cos(0.98860870622 + 28133.2116743764 * t);
-        Y0 += 0.00000000002 * Math.cos(1.53342367140 + 24042.59460877199 * t);
-        Y0 += 0.00000000003 * Math.cos(0.60080693478 + 51753.14024553549 * t);
-        Y0 += 0.00000000003 * Math.cos(4.58119790245 + 25632.99377504689 * t);
-        Y0 += 0.00000000003 * Math.cos(4.22401978235 + 26542.81250810149 * t);
-        Y0 += 0.00000000002 * Math.cos(3.15146237007 + 177287.84588263658 * t);
-        Y0 += 0.00000000002 * Math.cos(2.40433125154 + 24999.2999849732 * t);
-        Y0 += 0.00000000002 * Math.cos(0.11770112608 + 27176.50629817519 * t);
-        Y0 += 0.00000000002 * Math.cos(3.73548941002 + 138633.79104107959 * t);
-        Y0 += 0.00000000002 * Math.cos(0.17018827892 + 153878.96402397218 * t);
-        Y0 += 0.00000000002 * Math.cos(5.94978604165 + 133767.65136415116 * t);
-        Y0 += 0.00000000002 * Math.cos(1.34122714460 + 27143.35291850029 * t);
-        Y0 += 0.00000000002 * Math.cos(6.23156121709 + 20618.0193585336 * t);
-        Y0 += 0.00000000002 * Math.cos(2.57365646771 + 31557.78692461479 * t);
-        Y0 += 0.00000000002 * Math.cos(0.41751652575 + 51952.94596015479 * t);
-        Y0 += 0.00000000002 * Math.cos(0.76607594408 + 2854.6403739102 * t);
-        Y0 += 0.00000000002 * Math.cos(0.00103411994 + 52249.10340900739 * t);
-        Y0 += 0.00000000002 * Math.cos(5.38839699166 + 99979.73619952259 * t);
-        Y0 += 0.00000000002 * Math.cos(0.68315072405 + 7392.4544020848 * t);
-        Y0 += 0.00000000002 * Math.cos(3.14356989843 + 52202.1046029482 * t);
-        Y0 += 0.00000000002 * Math.cos(4.99018195848 + 66826.60603773296 * t);
-        Y0 += 0.00000000002 * Math.cos(5.66676020953 + 178243.44562424519 * t);
-        Y0 += 0.00000000002 * Math.cos(1.12725015054 + 4601.950118963 * t);
-        Y0 += 0.00000000002 * Math.cos(3.71415544355 + 2544.6726368924 * t);
-        Y0 += 0.00000000002 * Math.cos(2.09631003725 + 330.6189636582 * t);
-        Y0 += 0.00000000002 * Math.cos(5.01321986817 + 40738.70289615879 * t);
-        Y0 += 0.00000000002 * Math.cos(2.54696619158 + 25973.50403466079 * t);
-        Y0 += 0.00000000002 * Math.cos(2.49237809905 + 206370.02873972156 * t);
-        Y0 += 0.00000000002 * Math.cos(0.92029934107 + 52822.81711646319 * t);
-        Y0 += 0.00000000002 * Math.cos(1.43247785592 + 1353.7487450168 * t);
-        Y0 += 0.00000000002 * Math.cos(1.30678359365 + 7830.0925314348 * t);
-        Y0 += 0.00000000002 * Math.cos(2.85490308833 + 190809.59732422797 * t);
-        Y0 += 0.00000000002 * Math.cos(0.83915501030 + 273311.07406613971 * t);
-        Y0 += 0.00000000002 * Math.cos(6.04242335976 + 2655.5683724738 * t);
-        Y0 += 0.00000000002 * Math.cos(5.50264063039 + 24705.70520908959 * t);
-        Y0 += 0.00000000002 * Math.cos(3.30257705441 + 27470.1010740588 * t);
-        Y0 += 0.00000000002 * Math.cos(5.87474944976 + 4578.2518168586 * t);
-        Y0 += 0.00000000002 * Math.cos(4.82888675726 + 1603.2999892854 * t);
-        Y0 += 0.00000000002 * Math.cos(1.43074235300 + 2045.3085328022 * t);
-        Y0 += 0.00000000002 * Math.cos(4.14425166593 + 30459.7795083484 * t);
-        Y0 += 0.00000000002 * Math.cos(2.62817899928 + 32838.94398192 * t);
-        Y0 += 0.00000000002 * Math.cos(4.84613238692 + 14297.2740529154 * t);
-        Y0 += 0.00000000002 * Math.cos(3.95908529788 + 37878.532230233 * t);
-        Y0 += 0.00000000002 * Math.cos(4.63463254085 + 104501.17576343138 * t);
-        Y0 += 0.00000000002 * Math.cos(5.77634249731 + 44131.28121921999 * t);
-        Y0 += 0.00000000002 * Math.cos(2.06879035628 + 51546.95469709829 * t);
-        Y0 += 0.00000000002 * Math.cos(6.07216400811 + 237009.88537835456 * t);
-        Y0 += 0.00000000002 * Math.cos(4.68695414047 + 31107.8216289874 * t);
-        Y0 += 0.00000000002 * Math.cos(4.11826354433 + 21067.98465416099 * t);
-        Y0 += 0.00000000002 * Math.cos(0.41491214788 + 27299.2442119332 * t);
-        Y0 += 0.00000000002 * Math.cos(2.10712022974 + 24876.5620712152 * t);
-        Y0 += 0.00000000002 * Math.cos(4.17219070503 + 105418.10804348679 * t);
-        Y0 += 0.00000000002 * Math.cos(1.12019984719 + 49534.4650046762 * t);
-        Y0 += 0.00000000002 * Math.cos(4.16482236656 + 170068.84005193636 * t);
-        Y0 += 0.00000000002 * Math.cos(0.23628622399 + 24957.7491939884 * t);
-        Y0 += 0.00000000002 * Math.cos(2.28574615363 + 27218.05708916 * t);
-        Y0 += 0.00000000002 * Math.cos(1.54597568017 + 27257.4913929828 * t);
-        Y0 += 0.00000000002 * Math.cos(5.01877243889 + 236702.32775738496 * t);
-        Y0 += 0.00000000002 * Math.cos(4.45179618799 + 129215.69786709236 * t);
-        Y0 += 0.00000000002 * Math.cos(5.05246292131 + 1585.1407420207 * t);
-        Y0 += 0.00000000002 * Math.cos(3.99530485240 + 20235.1228263104 * t);
-        Y0 += 0.00000000002 * Math.cos(4.80991283240 + 31940.68345683799 * t);
-        Y0 += 0.00000000002 * Math.cos(5.61086631842 + 130432.88714897096 * t);
-        Y0 += 0.00000000002 * Math.cos(3.78215414688 + 79955.87509422498 * t);
-        Y0 += 0.00000000002 * Math.cos(0.01277373043 + 164721.69418265378 * t);
-        Y0 += 0.00000000002 * Math.cos(4.10481915739 + 299398.97720771392 * t);
-        Y0 += 0.00000000002 * Math.cos(1.23240843377 + 123554.36581794015 * t);
-        Y0 += 0.00000000002 * Math.cos(5.54210405976 + 51738.16239200849 * t);
-        Y0 += 0.00000000002 * Math.cos(2.83807224501 + 27953.1345440918 * t);
-        Y0 += 0.00000000002 * Math.cos(5.96714543979 + 24222.6717390566 * t);
-        Y0 += 0.00000000002 * Math.cos(4.74202892331 + 28440.769295346 * t);
-        Y0 += 0.00000000002 * Math.cos(4.06318876149 + 23735.03698780239 * t);
-        Y0 += 0.00000000002 * Math.cos(2.77900649268 + 3776.4308857348 * t);
-        Y0 += 0.00000000002 * Math.cos(3.48668662145 + 307.5576209696 * t);
-        Y0 += 0.00000000002 * Math.cos(3.48757125419 + 4268.0941781936 * t);
-        Y0 += 0.00000000002 * Math.cos(3.36973154287 + 26948.213070327 * t);
-        Y0 += 0.00000000002 * Math.cos(5.43548614193 + 25227.59321282139 * t);
-        Y0 += 0.00000000002 * Math.cos(0.64413971421 + 24918.31489016559 * t);
-        Y0 += 0.00000000002 * Math.cos(0.55778477986 + 25888.8311401378 * t);
-        Y0 += 0.00000000002 * Math.cos(1.96424759776 + 26286.97514301059 * t);
-        Y0 += 0.00000000002 * Math.cos(4.14592395979 + 80432.46990700519 * t);
-        Y0 += 0.00000000002 * Math.cos(1.34549805675 + 13989.7164319458 * t);
-        Y0 += 0.00000000002 * Math.cos(1.17653432087 + 38186.0898512026 * t);
-        Y0 += 0.00000000002 * Math.cos(5.64977063090 + 515.463871093 * t);
-        Y0 += 0.00000000002 * Math.cos(5.50647814213 + 76064.62208143558 * t);
-        Y0 += 0.00000000002 * Math.cos(4.18299182626 + 9591.5417453718 * t);
-        Y0 += 0.00000000002 * Math.cos(2.50118955855 + 87253.17713015496 * t);
-        Y0 += 0.00000000002 * Math.cos(6.18696209768 + 30831.3049047446 * t);
-        Y0 += 0.00000000002 * Math.cos(2.61825558712 + 21344.50137840379 * t);
-        Y0 += 0.00000000001 * Math.cos(5.79719820080 + 959.1228599576 * t);
-        Y0 += 0.00000000002 * Math.cos(1.35473982240 + 105403.88094948517 * t);
-        Y0 += 0.00000000001 * Math.cos(5.17269251049 + 26010.1525975903 * t);
-        Y0 += 0.00000000002 * Math.cos(5.01464967970 + 14650.79975458459 * t);
-        Y0 += 0.00000000002 * Math.cos(1.15577442187 + 124663.74437003357 * t);
-        Y0 += 0.00000000001 * Math.cos(5.29048508788 + 24919.0043045276 * t);
-        Y0 += 0.00000000001 * Math.cos(3.51473259692 + 27256.8019786208 * t);
-        Y0 += 0.00000000001 * Math.cos(1.64939139619 + 5039.588248313 * t);
-        Y0 += 0.00000000001 * Math.cos(0.57146312681 + 2383.1930147762 * t);
-        Y0 += 0.00000000002 * Math.cos(5.13757006415 + 43693.64308986999 * t);
-        Y0 += 0.00000000001 * Math.cos(3.35135060198 + 52499.31169980579 * t);
-        Y0 += 0.00000000001 * Math.cos(2.47792186293 + 25042.7483053866 * t);
-        Y0 += 0.00000000002 * Math.cos(2.53272290248 + 2214.7430875962 * t);
-        Y0 += 0.00000000001 * Math.cos(4.12090782995 + 233202.05537888398 * t);
-        Y0 += 0.00000000002 * Math.cos(3.92094587643 + 21516.2798836156 * t);
-        Y0 += 0.00000000002 * Math.cos(4.88427180837 + 30659.52639953279 * t);
-        Y0 += 0.00000000002 * Math.cos(3.93512097196 + 102225.73515891758 * t);
-        Y0 += 0.00000000002 * Math.cos(5.04685227536 + 28839.45074126579 * t);
-        Y0 += 0.00000000002 * Math.cos(6.27298790851 + 129971.55071751658 * t);
-        Y0 += 0.00000000001 * Math.cos(1.39509036339 + 15432.9509248086 * t);
-        Y0 += 0.00000000001 * Math.cos(1.05389010615 + 50807.14603030339 * t);
-        Y0 += 0.00000000002 * Math.cos(3.49292360736 + 51472.17309853099 * t);
-        Y0 += 0.00000000002 * Math.cos(0.19610603007 + 952.0766232596 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 782 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.00107803852 * Math.cos(4.34964793883 + 52175.8062831484 * t);
-        Y1 -= 0.00080651544;
-        Y1 += 0.00032715354 * Math.cos(1.11763734425 + 78263.70942472259 * t);
-        Y1 += 0.00008858158 * Math.cos(4.16852401867 + 104351.61256629678 * t);
-        Y1 += 0.00011914709 * Math.cos(1.22139986340 + 26087.9031415742 * t);
-        Y1 += 0.00002344469 * Math.cos(0.93615372641 + 130439.51570787099 * t);
-        Y1 += 0.00000617838 * Math.cos(3.98693992284 + 156527.41884944518 * t);
-        Y1 += 0.00000162955 * Math.cos(0.75452718043 + 182615.32199101939 * t);
-        Y1 += 0.00000070135 * Math.cos(1.35447664024 + 24978.5245894808 * t);
-        Y1 += 0.00000063991 * Math.cos(1.18000294070 + 27197.2816936676 * t);
-        Y1 += 0.00000043082 * Math.cos(3.80528844384 + 208703.22513259358 * t);
-        Y1 += 0.00000017706 * Math.cos(4.40634127417 + 51066.427731055 * t);
-        Y1 += 0.00000013279 * Math.cos(4.22577566721 + 53285.1848352418 * t);
-        Y1 += 0.00000011682 * Math.cos(1.76404497924 + 1109.3785520934 * t);
-        Y1 += 0.00000012619 * Math.cos(6.12221497999 + 1059.3819301892 * t);
-        Y1 += 0.00000011650 * Math.cos(5.06720847010 + 20426.571092422 * t);
-        Y1 += 0.00000011421 * Math.cos(0.57284937520 + 234791.12827416777 * t);
-        Y1 += 0.00000008018 * Math.cos(3.73528031615 + 31749.2351907264 * t);
-        Y1 += 0.00000006099 * Math.cos(3.87856029780 + 4551.9534970588 * t);
-        Y1 += 0.00000004738 * Math.cos(4.97800929323 + 21535.9496445154 * t);
-        Y1 += 0.00000004881 * Math.cos(1.17454074876 + 77154.33087262919 * t);
-        Y1 += 0.00000004307 * Math.cos(1.83017640372 + 46514.4742339962 * t);
-        Y1 += 0.00000004460 * Math.cos(3.53571937802 + 25132.3033999656 * t);
-        Y1 += 0.00000003936 * Math.cos(0.80973598550 + 1589.0728952838 * t);
-        Y1 += 0.00000004037 * Math.cos(2.84879735121 + 27147.28507176339 * t);
-        Y1 += 0.00000003784 * Math.cos(2.61021114752 + 14765.2390432698 * t);
-        Y1 += 0.00000003952 * Math.cos(5.27139824600 + 27043.5028831828 * t);
-        Y1 += 0.00000004218 * Math.cos(2.70289062748 + 51116.4243529592 * t);
-        Y1 += 0.00000003299 * Math.cos(5.80945771947 + 26617.5941066688 * t);
-        Y1 += 0.00000003022 * Math.cos(3.11389766991 + 25558.2121764796 * t);
-        Y1 += 0.00000003036 * Math.cos(3.62362220555 + 260879.03141574195 * t);
-        Y1 += 0.00000002928 * Math.cos(4.94900975921 + 26068.2333806744 * t);
-        Y1 += 0.00000002916 * Math.cos(3.86813577657 + 26107.57290247399 * t);
-        Y1 += 0.00000002398 * Math.cos(2.02069419116 + 26091.7844769322 * t);
-        Y1 += 0.00000002392 * Math.cos(0.51342544634 + 26084.0218062162 * t);
-        Y1 += 0.00000002070 * Math.cos(3.88639207621 + 30639.856638633 * t);
-        Y1 += 0.00000002070 * Math.cos(6.19899610943 + 37410.5672398786 * t);
-        Y1 += 0.00000001993 * Math.cos(0.93804934862 + 79373.08797681599 * t);
-        Y1 += 0.00000001864 * Math.cos(4.94267930925 + 47623.8527860896 * t);
-        Y1 += 0.00000001583 * Math.cos(0.12078429237 + 9103.9069941176 * t);
-        Y1 += 0.00000001574 * Math.cos(5.88839166356 + 955.5997416086 * t);
-        Y1 += 0.00000001517 * Math.cos(5.15214768135 + 19317.1925403286 * t);
-        Y1 += 0.00000001406 * Math.cos(4.88025959589 + 72602.37737557039 * t);
-        Y1 += 0.00000001366 * Math.cos(1.71840454751 + 50586.73338786459 * t);
-        Y1 += 0.00000001513 * Math.cos(2.21352358383 + 12566.1516999828 * t);
-        Y1 += 0.00000001392 * Math.cos(0.48634980709 + 426.598190876 * t);
-        Y1 += 0.00000001228 * Math.cos(2.36966134706 + 52705.49724824299 * t);
-        Y1 += 0.00000001329 * Math.cos(0.91947275142 + 26095.016688575 * t);
-        Y1 += 0.00000001297 * Math.cos(1.64793153920 + 26080.78959457339 * t);
-        Y1 += 0.00000001485 * Math.cos(1.42812285205 + 23869.1460373874 * t);
-        Y1 += 0.00000001109 * Math.cos(5.93496425650 + 53235.18821333759 * t);
-        Y1 += 0.00000001170 * Math.cos(3.92015942653 + 3442.5749449654 * t);
-        Y1 += 0.00000001084 * Math.cos(3.70940677149 + 32858.61374281979 * t);
-        Y1 += 0.00000001288 * Math.cos(1.12226805319 + 28306.66024576099 * t);
-        Y1 += 0.00000001252 * Math.cos(0.25878403718 + 51220.20654153979 * t);
-        Y1 += 0.00000001381 * Math.cos(4.22593487926 + 103242.23401420339 * t);
-        Y1 += 0.00000001059 * Math.cos(4.93178280597 + 529.6909650946 * t);
-        Y1 += 0.00000000964 * Math.cos(2.00174932268 + 53131.406024757 * t);
-        Y1 += 0.00000001106 * Math.cos(4.94616537059 + 22645.32819660879 * t);
-        Y1 += 0.00000000864 * Math.cos(5.66060639309 + 40853.142184844 * t);
-        Y1 += 0.00000000858 * Math.cos(3.76385932364 + 27676.976036858 * t);
-        Y1 += 0.00000000858 * Math.cos(5.73806224669 + 25874.6040461362 * t);
-        Y1 += 0.00000000926 * Math.cos(5.45535000947 + 639.897286314 * t);
-        Y1 += 0.00000000824 * Math.cos(3.08049270116 + 26301.2022370122 * t);
-        Y1 += 0.00000000883 * Math.cos(0.45084463736 + 11322.6640983044 * t);
-        Y1 += 0.00000000809 * Math.cos(0.39136440746 + 286966.93455731616 * t);
-        Y1 += 0.00000000890 * Math.cos(0.56532726320 + 83925.04147387479 * t);
-        Y1 += 0.00000000838 * Math.cos(3.20685394363 + 36301.18868778519 * t);
-        Y1 += 0.00000000745 * Math.cos(0.63676880132 + 56727.7597802072 * t);
-        Y1 += 0.00000000726 * Math.cos(4.24035820533 + 6770.7106012456 * t);
-        Y1 += 0.00000000731 * Math.cos(6.21695250751 + 18849.2275499742 * t);
-        Y1 += 0.00000000715 * Math.cos(2.44570090401 + 43071.8992890308 * t);
-        Y1 += 0.00000000668 * Math.cos(1.71704627521 + 52156.1365222486 * t);
-        Y1 += 0.00000000673 * Math.cos(3.24136414552 + 1052.2683831884 * t);
-        Y1 += 0.00000000733 * Math.cos(0.31521674193 + 39609.6545831656 * t);
-        Y1 += 0.00000000702 * Math.cos(5.58423906419 + 15874.6175953632 * t);
-        Y1 += 0.00000000810 * Math.cos(2.76691780988 + 1066.49547719 * t);
-        Y1 += 0.00000000576 * Math.cos(0.68273915307 + 5661.3320491522 * t);
-        Y1 += 0.00000000555 * Math.cos(1.44480865678 + 2118.7638603784 * t);
-        Y1 += 0.00000000598 * Math.cos(5.40710232495 + 51646.11531805379 * t);
-        Y1 += 0.00000000540 * Math.cos(2.73251678283 + 16983.9961474566 * t);
-        Y1 += 0.00000000538 * Math.cos(5.07690787025 + 52179.6876185064 * t);
-        Y1 += 0.00000000619 * Math.cos(6.13858968874 + 25028.521211385 * t);
-        Y1 += 0.00000000665 * Math.cos(3.93109197005 + 29530.4780865396 * t);
-        Y1 += 0.00000000506 * Math.cos(5.24159135308 + 38654.05484155699 * t);
-        Y1 += 0.00000000530 * Math.cos(3.36422519322 + 26514.5013324502 * t);
-        Y1 += 0.00000000473 * Math.cos(3.59055175449 + 110012.94461544899 * t);
-        Y1 += 0.00000000487 * Math.cos(2.93506686309 + 63498.47038145279 * t);
-        Y1 += 0.00000000522 * Math.cos(0.62912353695 + 52195.47604404819 * t);
-        Y1 += 0.00000000441 * Math.cos(1.64790874543 + 98690.28051714458 * t);
-        Y1 += 0.00000000534 * Math.cos(1.70054963408 + 2218.7571041868 * t);
-        Y1 += 0.00000000435 * Math.cos(2.54548425009 + 33326.5787331742 * t);
-        Y1 += 0.00000000476 * Math.cos(2.07918702570 + 51749.20809227239 * t);
-        Y1 += 0.00000000435 * Math.cos(3.56264869714 + 52171.9249477904 * t);
-        Y1 += 0.00000000401 * Math.cos(3.23464522849 + 7238.67559160 * t);
-        Y1 += 0.00000000392 * Math.cos(5.33365190740 + 78793.40038981718 * t);
-        Y1 += 0.00000000407 * Math.cos(4.44476287637 + 52168.69273614759 * t);
-        Y1 += 0.00000000362 * Math.cos(0.42873204406 + 58946.51688439399 * t);
-        Y1 += 0.00000000359 * Math.cos(6.23300670520 + 62389.09182935939 * t);
-        Y1 += 0.00000000379 * Math.cos(5.70187484299 + 103292.23063610759 * t);
-        Y1 += 0.00000000327 * Math.cos(2.73153219856 + 79323.09135491178 * t);
-        Y1 += 0.00000000394 * Math.cos(0.99378340812 + 129330.13715577759 * t);
-        Y1 += 0.00000000387 * Math.cos(3.94846766008 + 52182.9198301492 * t);
-        Y1 += 0.00000000315 * Math.cos(4.54497673319 + 76674.63652943878 * t);
-        Y1 += 0.00000000324 * Math.cos(4.48254226320 + 49957.0491789616 * t);
-        Y1 += 0.00000000334 * Math.cos(2.48260797685 + 68050.42387851159 * t);
-        Y1 += 0.00000000298 * Math.cos(4.99631840995 + 48733.23133818299 * t);
-        Y1 += 0.00000000379 * Math.cos(4.15724883772 + 54394.56338733519 * t);
-        Y1 += 0.00000000315 * Math.cos(3.35778860471 + 51535.90899683439 * t);
-        Y1 += 0.00000000369 * Math.cos(3.28585153276 + 77308.10968311399 * t);
-        Y1 += 0.00000000317 * Math.cos(1.92463402354 + 45405.0956819028 * t);
-        Y1 += 0.00000000321 * Math.cos(2.67304207488 + 13655.8604911764 * t);
-        Y1 += 0.00000000305 * Math.cos(4.89249914414 + 7.1135470008 * t);
-        Y1 += 0.00000000263 * Math.cos(6.20975408266 + 52389.1053785864 * t);
-        Y1 += 0.00000000235 * Math.cos(5.56250286661 + 51123.53789995999 * t);
-        Y1 += 0.00000000232 * Math.cos(3.67747292832 + 82815.66292178139 * t);
-        Y1 += 0.00000000223 * Math.cos(2.42466836013 + 66941.04532641819 * t);
-        Y1 += 0.00000000216 * Math.cos(3.44223471965 + 313054.83769889036 * t);
-        Y1 += 0.00000000226 * Math.cos(1.80631316423 + 32370.9789915656 * t);
-        Y1 += 0.00000000278 * Math.cos(6.04510796667 + 51109.31080595839 * t);
-        Y1 += 0.00000000198 * Math.cos(0.48439148557 + 53764.8791784322 * t);
-        Y1 += 0.00000000198 * Math.cos(5.45868421930 + 69159.80243060499 * t);
-        Y1 += 0.00000000198 * Math.cos(1.05088517434 + 50057.04242277 * t);
-        Y1 += 0.00000000204 * Math.cos(2.45848643380 + 129380.13377768178 * t);
-        Y1 += 0.00000000202 * Math.cos(2.90008957782 + 44937.1306915484 * t);
-        Y1 += 0.00000000186 * Math.cos(0.34501313169 + 136100.84775702319 * t);
-        Y1 += 0.00000000184 * Math.cos(0.66520680194 + 419.4846438752 * t);
-        Y1 += 0.00000000179 * Math.cos(2.18135449870 + 51962.5071877104 * t);
-        Y1 += 0.00000000198 * Math.cos(6.24548788507 + 38519.945791972 * t);
-        Y1 += 0.00000000175 * Math.cos(3.70186890404 + 105460.99111839019 * t);
-        Y1 += 0.00000000170 * Math.cos(4.76480820754 + 78244.0396638228 * t);
-        Y1 += 0.00000000174 * Math.cos(5.50628514595 + 94138.32702008578 * t);
-        Y1 += 0.00000000228 * Math.cos(0.17150693291 + 433.7117378768 * t);
-        Y1 += 0.00000000158 * Math.cos(2.02200752968 + 64741.95798313119 * t);
-        Y1 += 0.00000000159 * Math.cos(4.59781203561 + 853.196381752 * t);
-        Y1 += 0.00000000154 * Math.cos(3.11106938682 + 35191.8101356918 * t);
-        Y1 += 0.00000000149 * Math.cos(5.55768086104 + 59414.4818747484 * t);
-        Y1 += 0.00000000147 * Math.cos(0.13708317947 + 52602.4044740244 * t);
-        Y1 += 0.00000000144 * Math.cos(4.84328699315 + 23754.70674870219 * t);
-        Y1 += 0.00000000182 * Math.cos(0.69098340435 + 55618.3812281138 * t);
-        Y1 += 0.00000000181 * Math.cos(5.38091227869 + 57837.1383323006 * t);
-        Y1 += 0.00000000141 * Math.cos(0.43737121379 + 19804.8272915828 * t);
-        Y1 += 0.00000000154 * Math.cos(1.82260394090 + 99799.65906923798 * t);
-        Y1 += 0.00000000139 * Math.cos(4.62954456179 + 25973.46385288896 * t);
-        Y1 += 0.00000000139 * Math.cos(4.17648511776 + 26202.34243025941 * t);
-        Y1 += 0.00000000150 * Math.cos(0.38751874779 + 12432.0426503978 * t);
-        Y1 += 0.00000000191 * Math.cos(2.30641502359 + 26727.8004278882 * t);
-        Y1 += 0.00000000146 * Math.cos(5.94769996528 + 77734.01845962799 * t);
-        Y1 += 0.00000000135 * Math.cos(1.84579237766 + 78267.59076008058 * t);
-        Y1 += 0.00000000129 * Math.cos(3.00023369224 + 88476.99497093359 * t);
-        Y1 += 0.00000000149 * Math.cos(5.86186493808 + 27154.3986187642 * t);
-        Y1 += 0.00000000135 * Math.cos(4.69551709590 + 124778.18365871879 * t);
-        Y1 += 0.00000000121 * Math.cos(2.04673401184 + 104881.30353139139 * t);
-        Y1 += 0.00000000117 * Math.cos(5.62340094017 + 26241.681952059 * t);
-        Y1 += 0.00000000146 * Math.cos(2.33019644576 + 213.299095438 * t);
-        Y1 += 0.00000000114 * Math.cos(3.20229489909 + 25934.1243310894 * t);
-        Y1 += 0.00000000111 * Math.cos(4.43341533070 + 28206.6670019526 * t);
-        Y1 += 0.00000000108 * Math.cos(0.12055562317 + 27140.17152476259 * t);
-        Y1 += 0.00000000108 * Math.cos(4.00300903450 + 28421.0995344462 * t);
-        Y1 += 0.00000000115 * Math.cos(2.44069966013 + 103821.92160120218 * t);
-        Y1 += 0.00000000147 * Math.cos(5.78118598550 + 25661.3049506982 * t);
-        Y1 += 0.00000000143 * Math.cos(3.36413722238 + 1596.1864422846 * t);
-        Y1 += 0.00000000112 * Math.cos(4.03628252899 + 155418.04029735178 * t);
-        Y1 += 0.00000000113 * Math.cos(0.89323533784 + 5327.4761083828 * t);
-        Y1 += 0.00000000101 * Math.cos(1.94624186930 + 25619.9381512198 * t);
-        Y1 += 0.00000000103 * Math.cos(3.99533045688 + 2333.196392872 * t);
-        Y1 += 0.00000000098 * Math.cos(0.58109085915 + 26555.8681319286 * t);
-        Y1 += 0.00000000118 * Math.cos(0.18946350402 + 7994.5284420242 * t);
-        Y1 += 0.00000000109 * Math.cos(0.03546800856 + 103396.01282468818 * t);
-        Y1 += 0.00000000096 * Math.cos(4.82412903185 + 58458.88213313979 * t);
-        Y1 += 0.00000000095 * Math.cos(1.17322458014 + 78256.59587772179 * t);
-        Y1 += 0.00000000108 * Math.cos(4.55255767260 + 79219.30916633119 * t);
-        Y1 += 0.00000000097 * Math.cos(5.79799018982 + 105410.99449648599 * t);
-        Y1 += 0.00000000104 * Math.cos(3.38377920613 + 91785.46086631398 * t);
-        Y1 += 0.00000000094 * Math.cos(2.84735719730 + 1581.959348283 * t);
-        Y1 += 0.00000000090 * Math.cos(4.81615242206 + 125887.56221081219 * t);
-        Y1 += 0.00000000084 * Math.cos(1.63978190741 + 74821.13447975718 * t);
-        Y1 += 0.00000000083 * Math.cos(5.10540266957 + 24498.8302462904 * t);
-        Y1 += 0.00000000083 * Math.cos(0.21041749661 + 77623.81213840858 * t);
-        Y1 += 0.00000000098 * Math.cos(3.79443655655 + 71980.63357473118 * t);
-        Y1 += 0.00000000080 * Math.cos(5.50123915378 + 155468.03691925599 * t);
-        Y1 += 0.00000000081 * Math.cos(1.24471501739 + 76044.9523205358 * t);
-        Y1 += 0.00000000082 * Math.cos(2.10079395964 + 10213.285546211 * t);
-        Y1 += 0.00000000081 * Math.cos(3.47273729856 + 26137.8997634784 * t);
-        Y1 += 0.00000000087 * Math.cos(0.96769986532 + 80482.46652890938 * t);
-        Y1 += 0.00000000081 * Math.cos(5.32947215471 + 26037.90651966999 * t);
-        Y1 += 0.00000000078 * Math.cos(0.98498478741 + 73711.75592766379 * t);
-        Y1 += 0.00000000105 * Math.cos(0.71334145620 + 78270.82297172339 * t);
-        Y1 += 0.00000000104 * Math.cos(3.66342015283 + 78283.37918562238 * t);
-        Y1 += 0.00000000089 * Math.cos(0.32104107901 + 78259.82808936459 * t);
-        Y1 += 0.00000000077 * Math.cos(5.22885086883 + 18207.81398823521 * t);
-        Y1 += 0.00000000081 * Math.cos(2.33694388762 + 77211.44104153418 * t);
-        Y1 += 0.00000000082 * Math.cos(2.81119087789 + 77197.21394753258 * t);
-        Y1 += 0.00000000067 * Math.cos(3.45611920251 + 85034.42002596818 * t);
-        Y1 += 0.00000000066 * Math.cos(2.25341317524 + 120226.23016165999 * t);
-        Y1 += 0.00000000076 * Math.cos(3.36946418463 + 149.5631971346 * t);
-        Y1 += 0.00000000066 * Math.cos(3.38335740927 + 162188.75089859738 * t);
-        Y1 += 0.00000000071 * Math.cos(0.43788427177 + 108903.56606335558 * t);
-        Y1 += 0.00000000064 * Math.cos(1.72668339565 + 51756.3216392732 * t);
-        Y1 += 0.00000000061 * Math.cos(0.85156750769 + 102762.53967101299 * t);
-        Y1 += 0.00000000061 * Math.cos(5.87232894228 + 536.8045120954 * t);
-        Y1 += 0.00000000073 * Math.cos(0.71807111236 + 522.5774180938 * t);
-        Y1 += 0.00000000080 * Math.cos(0.95243616639 + 41962.5207369374 * t);
-        Y1 += 0.00000000076 * Math.cos(3.02910585186 + 78477.00852016058 * t);
-        Y1 += 0.00000000063 * Math.cos(5.48151873299 + 93028.94846799239 * t);
-        Y1 += 0.00000000078 * Math.cos(4.97215052079 + 71492.99882347698 * t);
-        Y1 += 0.00000000077 * Math.cos(2.34940739586 + 51742.09454527159 * t);
-        Y1 += 0.00000000077 * Math.cos(2.23039388415 + 25565.3257234804 * t);
-        Y1 += 0.00000000057 * Math.cos(2.02164287621 + 2648.454825473 * t);
-        Y1 += 0.00000000058 * Math.cos(0.20188459959 + 339142.74084046457 * t);
-        Y1 += 0.00000000055 * Math.cos(3.39931628865 + 13521.7514415914 * t);
-        Y1 += 0.00000000055 * Math.cos(3.95248458913 + 76144.94556434419 * t);
-        Y1 += 0.00000000060 * Math.cos(3.68878783807 + 33967.99229491319 * t);
-        Y1 += 0.00000000060 * Math.cos(5.91873713879 + 71025.03383312259 * t);
-        Y1 += 0.00000000056 * Math.cos(0.12827895263 + 117873.36400788819 * t);
-        Y1 += 0.00000000053 * Math.cos(5.28346247937 + 10021.8372800994 * t);
-        Y1 += 0.00000000055 * Math.cos(4.21946130925 + 51322.60990139639 * t);
-        Y1 += 0.00000000053 * Math.cos(3.50270077624 + 79852.78232000639 * t);
-        Y1 += 0.00000000054 * Math.cos(4.92792314090 + 78050.41032928458 * t);
-        Y1 += 0.00000000058 * Math.cos(2.81154337799 + 64607.84893354619 * t);
-        Y1 += 0.00000000053 * Math.cos(0.59571673904 + 98068.53671630539 * t);
-        Y1 += 0.00000000068 * Math.cos(0.28167911102 + 26610.48055966799 * t);
-        Y1 += 0.00000000049 * Math.cos(5.08570479388 + 90829.86112470538 * t);
-        Y1 += 0.00000000050 * Math.cos(4.43499705514 + 131548.89425996438 * t);
-        Y1 += 0.00000000057 * Math.cos(5.89765927926 + 632.7837393132 * t);
-        Y1 += 0.00000000050 * Math.cos(3.73696798374 + 81706.28436968799 * t);
-        Y1 += 0.00000000057 * Math.cos(1.99845655428 + 26624.70765366959 * t);
-        Y1 += 0.00000000048 * Math.cos(1.72165289468 + 46848.3301747656 * t);
-        Y1 += 0.00000000051 * Math.cos(5.44789453960 + 129909.82474277639 * t);
-        Y1 += 0.00000000055 * Math.cos(2.67037457843 + 18093.37469954999 * t);
-        Y1 += 0.00000000045 * Math.cos(1.53256570325 + 104331.94280539699 * t);
-        Y1 += 0.00000000043 * Math.cos(3.21375486020 + 78690.30761559859 * t);
-        Y1 += 0.00000000050 * Math.cos(5.55955993807 + 647.0108333148 * t);
-        Y1 += 0.00000000060 * Math.cos(2.46786657303 + 44181.27784112419 * t);
-        Y1 += 0.00000000042 * Math.cos(6.05032686000 + 114564.89811250778 * t);
-        Y1 += 0.00000000050 * Math.cos(0.35287690462 + 25448.00585526019 * t);
-        Y1 += 0.00000000046 * Math.cos(3.01593133957 + 76.2660712756 * t);
-        Y1 += 0.00000000052 * Math.cos(5.71954387859 + 39743.7636327506 * t);
-        Y1 += 0.00000000043 * Math.cos(5.20907523109 + 103925.01437542078 * t);
-        Y1 += 0.00000000039 * Math.cos(1.52015918184 + 22759.76748529401 * t);
-        Y1 += 0.00000000047 * Math.cos(4.16294922404 + 7880.08915333899 * t);
-        Y1 += 0.00000000051 * Math.cos(0.64336380499 + 25551.09862947879 * t);
-        Y1 += 0.00000000037 * Math.cos(1.54306065932 + 151975.46535238638 * t);
-        Y1 += 0.00000000044 * Math.cos(3.24253086773 + 26521.614879451 * t);
-        Y1 += 0.00000000050 * Math.cos(5.41249272242 + 50579.61984086379 * t);
-        Y1 += 0.00000000041 * Math.cos(5.42065925757 + 52815.7035694624 * t);
-        Y1 += 0.00000000036 * Math.cos(1.60823257348 + 84546.78527471398 * t);
-        Y1 += 0.00000000035 * Math.cos(3.16352925954 + 25984.8103673556 * t);
-        Y1 += 0.00000000042 * Math.cos(5.31330734899 + 25881.717593137 * t);
-        Y1 += 0.00000000038 * Math.cos(1.94461159801 + 20760.4270331914 * t);
-        Y1 += 0.00000000040 * Math.cos(3.45207563685 + 26294.08869001139 * t);
-        Y1 += 0.00000000041 * Math.cos(1.46373068876 + 150866.08680029298 * t);
-        Y1 += 0.00000000041 * Math.cos(2.59929301074 + 52329.58509363319 * t);
-        Y1 += 0.00000000033 * Math.cos(5.65242255825 + 26190.99591579279 * t);
-        Y1 += 0.00000000043 * Math.cos(4.45960439238 + 26507.38778544939 * t);
-        Y1 += 0.00000000035 * Math.cos(0.94458988495 + 157636.79740153858 * t);
-        Y1 += 0.00000000033 * Math.cos(5.49712174212 + 89586.37352302698 * t);
-        Y1 += 0.00000000033 * Math.cos(1.02557119665 + 29416.03879785439 * t);
-        Y1 += 0.00000000037 * Math.cos(5.05612012470 + 130969.20667296558 * t);
-        Y1 += 0.00000000045 * Math.cos(4.56329533173 + 6681.2248533996 * t);
-        Y1 += 0.00000000032 * Math.cos(0.81223636394 + 181505.94343892598 * t);
-        Y1 += 0.00000000036 * Math.cos(4.90396980927 + 104355.49390165479 * t);
-        Y1 += 0.00000000033 * Math.cos(2.20907300044 + 95247.70557217918 * t);
-        Y1 += 0.00000000030 * Math.cos(3.64034430247 + 52643.7712735028 * t);
-        Y1 += 0.00000000032 * Math.cos(3.07834718000 + 129483.91596626239 * t);
-        Y1 += 0.00000000032 * Math.cos(5.92360692203 + 50593.84693486539 * t);
-        Y1 += 0.00000000030 * Math.cos(2.26774333910 + 181555.94006083018 * t);
-        Y1 += 0.00000000031 * Math.cos(0.94422467729 + 52290.24557183361 * t);
-        Y1 += 0.00000000030 * Math.cos(6.02102768353 + 105307.21230790539 * t);
-        Y1 += 0.00000000032 * Math.cos(3.17587486064 + 51639.00177105299 * t);
-        Y1 += 0.00000000031 * Math.cos(3.79079245196 + 77204.32749453338 * t);
-        Y1 += 0.00000000030 * Math.cos(2.65307578652 + 53242.3017603384 * t);
-        Y1 += 0.00000000028 * Math.cos(0.76476883745 + 54509.0026760204 * t);
-        Y1 += 0.00000000030 * Math.cos(3.96649414762 + 25668.418497699 * t);
-        Y1 += 0.00000000026 * Math.cos(1.39174885866 + 52061.36699446317 * t);
-        Y1 += 0.00000000026 * Math.cos(5.17584348971 + 29428.515568274 * t);
-        Y1 += 0.00000000031 * Math.cos(1.42512028038 + 26941.0995233262 * t);
-        Y1 += 0.00000000025 * Math.cos(4.71318347837 + 956.2891559706 * t);
-        Y1 += 0.00000000025 * Math.cos(3.82482687733 + 22747.2907148744 * t);
-        Y1 += 0.00000000026 * Math.cos(0.12161666654 + 26237.46633870879 * t);
-        Y1 += 0.00000000029 * Math.cos(3.76445788944 + 104358.72611329758 * t);
-        Y1 += 0.00000000029 * Math.cos(2.57759749899 + 131498.89763806018 * t);
-        Y1 += 0.00000000024 * Math.cos(1.15377636817 + 54294.57014352679 * t);
-        Y1 += 0.00000000023 * Math.cos(5.31248405128 + 146314.13330323418 * t);
-        Y1 += 0.00000000024 * Math.cos(2.14828351418 + 25035.6347583858 * t);
-        Y1 += 0.00000000023 * Math.cos(3.51522402665 + 42153.969003049 * t);
-        Y1 += 0.00000000025 * Math.cos(2.81295161547 + 25021.4076643842 * t);
-        Y1 += 0.00000000023 * Math.cos(3.16185186674 + 143961.26714946238 * t);
-        Y1 += 0.00000000026 * Math.cos(0.16015479279 + 27684.0895838588 * t);
-        Y1 += 0.00000000023 * Math.cos(0.76234430512 + 85502.38501632259 * t);
-        Y1 += 0.00000000023 * Math.cos(1.93214715353 + 130012.91751699499 * t);
-        Y1 += 0.00000000021 * Math.cos(4.22606773111 + 104344.49901929598 * t);
-        Y1 += 0.00000000021 * Math.cos(4.30403088752 + 102132.85546210999 * t);
-        Y1 += 0.00000000023 * Math.cos(4.82095240983 + 77844.22478084739 * t);
-        Y1 += 0.00000000023 * Math.cos(6.09848080953 + 61279.713277266 * t);
-        Y1 += 0.00000000024 * Math.cos(5.43301943304 + 52026.2430860138 * t);
-        Y1 += 0.00000000021 * Math.cos(4.82582614568 + 206.1855484372 * t);
-        Y1 += 0.00000000028 * Math.cos(5.39827333268 + 103299.34418310839 * t);
-        Y1 += 0.00000000021 * Math.cos(3.65808766486 + 124156.43985787958 * t);
-        Y1 += 0.00000000023 * Math.cos(5.40550001829 + 77829.99768684579 * t);
-        Y1 += 0.00000000021 * Math.cos(0.15049062299 + 188276.65404017158 * t);
-        Y1 += 0.00000000020 * Math.cos(0.71942657444 + 1478.8665740644 * t);
-        Y1 += 0.00000000019 * Math.cos(2.08327707784 + 52125.80966124419 * t);
-        Y1 += 0.00000000019 * Math.cos(0.39572623459 + 49527.35145767539 * t);
-        Y1 += 0.00000000020 * Math.cos(5.86539829358 + 103285.11708910679 * t);
-        Y1 += 0.00000000019 * Math.cos(3.38049497890 + 103711.71527998279 * t);
-        Y1 += 0.00000000019 * Math.cos(1.62343185954 + 3328.13565628019 * t);
-        Y1 += 0.00000000022 * Math.cos(6.13349712417 + 104564.91166173479 * t);
-        Y1 += 0.00000000026 * Math.cos(5.96914298480 + 13362.4497067992 * t);
-        Y1 += 0.00000000025 * Math.cos(4.72474160158 + 24864.08530079559 * t);
-        Y1 += 0.00000000021 * Math.cos(1.75089409332 + 97580.90196505119 * t);
-        Y1 += 0.00000000019 * Math.cos(3.21617188609 + 53228.07466633679 * t);
-        Y1 += 0.00000000024 * Math.cos(4.07017150249 + 27311.72098235281 * t);
-        Y1 += 0.00000000019 * Math.cos(0.01409672971 + 115674.27666460119 * t);
-        Y1 += 0.00000000021 * Math.cos(0.42232709112 + 104371.28232719658 * t);
-        Y1 += 0.00000000018 * Math.cos(3.95444821177 + 106570.36967048359 * t);
-        Y1 += 0.00000000022 * Math.cos(3.48072739991 + 134991.46920492979 * t);
-        Y1 += 0.00000000017 * Math.cos(0.85708896301 + 1162.4747044078 * t);
-        Y1 += 0.00000000016 * Math.cos(1.01452476805 + 77410.51304297059 * t);
-        Y1 += 0.00000000019 * Math.cos(3.35287626013 + 52698.38370124219 * t);
-        Y1 += 0.00000000017 * Math.cos(1.53003869474 + 104138.31347085879 * t);
-        Y1 += 0.00000000016 * Math.cos(2.76299512297 + 12546.481939083 * t);
-        Y1 += 0.00000000015 * Math.cos(4.67333162818 + 100909.03762133139 * t);
-        Y1 += 0.00000000018 * Math.cos(2.36207795372 + 131395.11544947959 * t);
-        Y1 += 0.00000000016 * Math.cos(5.51525513218 + 25867.49049913539 * t);
-        Y1 += 0.00000000016 * Math.cos(0.14257422390 + 60055.89543648739 * t);
-        Y1 += 0.00000000015 * Math.cos(1.22870448460 + 65697.55772473979 * t);
-        Y1 += 0.00000000016 * Math.cos(3.31067179278 + 26308.315784013 * t);
-        Y1 += 0.00000000021 * Math.cos(4.56372121432 + 11610.5519583742 * t);
-        Y1 += 0.00000000020 * Math.cos(3.01802641783 + 51543.0225438352 * t);
-        Y1 += 0.00000000017 * Math.cos(3.21776480838 + 51528.79544983359 * t);
-        Y1 += 0.00000000015 * Math.cos(6.06025379954 + 26164.1692128498 * t);
-        Y1 += 0.00000000020 * Math.cos(4.28247273571 + 45494.58142974879 * t);
-        Y1 += 0.00000000019 * Math.cos(2.18136203189 + 155997.72788435058 * t);
-        Y1 += 0.00000000017 * Math.cos(2.13417847261 + 76667.52298243798 * t);
-        Y1 += 0.00000000018 * Math.cos(2.25020745189 + 119116.85160956658 * t);
-        Y1 += 0.00000000016 * Math.cos(4.97934330897 + 52712.61079524379 * t);
-        Y1 += 0.00000000017 * Math.cos(5.06532306406 + 49842.60989027639 * t);
-        Y1 += 0.00000000014 * Math.cos(6.04847951703 + 90695.75207512038 * t);
-        Y1 += 0.00000000014 * Math.cos(2.00566016514 + 44295.7171298094 * t);
-        Y1 += 0.00000000014 * Math.cos(3.89737183526 + 183724.70054311278 * t);
-        Y1 += 0.00000000014 * Math.cos(3.18665999637 + 27999.1026247914 * t);
-        Y1 += 0.00000000019 * Math.cos(3.37998775559 + 104347.73123093879 * t);
-        Y1 += 0.00000000014 * Math.cos(3.19141679400 + 2111.6503133776 * t);
-        Y1 += 0.00000000015 * Math.cos(0.17179065008 + 52225.8029050526 * t);
-        Y1 += 0.00000000018 * Math.cos(2.68126129305 + 97112.93697469679 * t);
-        Y1 += 0.00000000015 * Math.cos(3.20359726329 + 128850.44281258718 * t);
-        Y1 += 0.00000000016 * Math.cos(5.81395988324 + 52099.5402118728 * t);
-        Y1 += 0.00000000014 * Math.cos(1.85956386315 + 116917.76426627958 * t);
-        Y1 += 0.00000000015 * Math.cos(3.25430509963 + 365230.64398203876 * t);
-        Y1 += 0.00000000013 * Math.cos(5.63989609373 + 24176.703658357 * t);
-        Y1 += 0.00000000014 * Math.cos(3.14536047801 + 111590.28815789679 * t);
-        Y1 += 0.00000000014 * Math.cos(5.20815151417 + 25953.79409198919 * t);
-        Y1 += 0.00000000013 * Math.cos(4.58713099926 + 178063.36849396059 * t);
-        Y1 += 0.00000000014 * Math.cos(0.49361194238 + 107794.18751126219 * t);
-        Y1 += 0.00000000015 * Math.cos(0.24966144265 + 105940.68546158058 * t);
-        Y1 += 0.00000000014 * Math.cos(3.58612114877 + 26222.0121911592 * t);
-        Y1 += 0.00000000015 * Math.cos(4.47532653098 + 40565.2543247742 * t);
-        Y1 += 0.00000000013 * Math.cos(2.11806707918 + 323.5054166574 * t);
-        Y1 += 0.00000000015 * Math.cos(6.00200377172 + 27669.86248985719 * t);
-        Y1 += 0.00000000013 * Math.cos(4.88852328329 + 14477.35118320 * t);
-        Y1 += 0.00000000012 * Math.cos(2.67513147421 + 76681.75007643958 * t);
-        Y1 += 0.00000000012 * Math.cos(4.62759446539 + 72936.23331633979 * t);
-        Y1 += 0.00000000012 * Math.cos(3.92223202416 + 16066.0658614748 * t);
-        Y1 += 0.00000000013 * Math.cos(2.82189216105 + 140652.80125408198 * t);
-        Y1 += 0.00000000012 * Math.cos(6.06250888369 + 52072.71350892979 * t);
-        Y1 += 0.00000000015 * Math.cos(3.45337214515 + 77837.11123384659 * t);
-        Y1 += 0.00000000015 * Math.cos(3.92082035349 + 2125.8774073792 * t);
-        Y1 += 0.00000000012 * Math.cos(5.77007103086 + 1692.1656695024 * t);
-        Y1 += 0.00000000014 * Math.cos(2.72526558025 + 38813.3565763492 * t);
-        Y1 += 0.00000000012 * Math.cos(4.67458570991 + 110634.68841628819 * t);
-        Y1 += 0.00000000012 * Math.cos(0.55371302918 + 102232.84870591838 * t);
-        Y1 += 0.00000000011 * Math.cos(2.00033237383 + 36109.7404216736 * t);
-        Y1 += 0.00000000011 * Math.cos(1.10539607022 + 26198.1094627936 * t);
-        Y1 += 0.00000000014 * Math.cos(5.75250501205 + 78417.48823520739 * t);
-        Y1 += 0.00000000012 * Math.cos(0.46344500005 + 45892.73043315699 * t);
-        Y1 += 0.00000000012 * Math.cos(3.62733339243 + 31415.379249957 * t);
-        Y1 += 0.00000000011 * Math.cos(0.14540231257 + 111122.32316754239 * t);
-        Y1 += 0.00000000011 * Math.cos(6.27463466728 + 104778.21075717278 * t);
-        Y1 += 0.00000000011 * Math.cos(1.42069515516 + 25977.69682035479 * t);
-        Y1 += 0.00000000011 * Math.cos(6.17305766602 + 39629.32434406539 * t);
-        Y1 += 0.00000000011 * Math.cos(2.54959001341 + 51969.62073471119 * t);
-        Y1 += 0.00000000015 * Math.cos(1.08931229419 + 32769.1279949738 * t);
-        Y1 += 0.00000000010 * Math.cos(4.00452085532 + 55503.94193942859 * t);
-        Y1 += 0.00000000012 * Math.cos(4.58411493514 + 130419.8459469712 * t);
-        Y1 += 0.00000000011 * Math.cos(2.95045626847 + 141762.17980617538 * t);
-        Y1 += 0.00000000013 * Math.cos(5.16720446526 + 70269.18098269838 * t);
-        Y1 += 0.00000000010 * Math.cos(5.01492480888 + 28736.3579670472 * t);
-        Y1 += 0.00000000012 * Math.cos(2.34850046455 + 220.4126424388 * t);
-        Y1 += 0.00000000013 * Math.cos(5.70406073241 + 25654.19140369739 * t);
-        Y1 += 0.00000000010 * Math.cos(2.23466649370 + 78903.60671103658 * t);
-        Y1 += 0.00000000012 * Math.cos(5.60290289064 + 224.3447957019 * t);
-        Y1 += 0.00000000010 * Math.cos(6.22843606515 + 170049.17029103659 * t);
-        Y1 += 0.00000000010 * Math.cos(5.31334628497 + 207643.84320240439 * t);
-        Y1 += 0.00000000012 * Math.cos(4.98783133373 + 26395.46076254379 * t);
-        Y1 += 0.00000000012 * Math.cos(3.81738635107 + 25780.3455206046 * t);
-        Y1 += 0.00000000012 * Math.cos(2.61068546931 + 26724.8994135984 * t);
-        Y1 += 0.00000000012 * Math.cos(6.19453221549 + 25450.90686955 * t);
-        Y1 += 0.00000000009 * Math.cos(4.05684885963 + 51219.51712717779 * t);
-        Y1 += 0.00000000009 * Math.cos(6.12208983529 + 155571.81910783658 * t);
-        Y1 += 0.00000000009 * Math.cos(0.41261244956 + 78731.674415077 * t);
-        Y1 += 0.00000000012 * Math.cos(0.71134314907 + 25446.4895798352 * t);
-        Y1 += 0.00000000012 * Math.cos(1.81068922855 + 26729.31670331319 * t);
-        Y1 += 0.00000000010 * Math.cos(2.47468110683 + 65831.6667743248 * t);
-        Y1 += 0.00000000009 * Math.cos(0.40952403441 + 16703.062133499 * t);
-        Y1 += 0.00000000009 * Math.cos(4.90697568305 + 51707.84129279399 * t);
-        Y1 += 0.00000000009 * Math.cos(3.85732708279 + 207593.84658050018 * t);
-        Y1 += 0.00000000009 * Math.cos(4.96561807224 + 156100.82065856918 * t);
-        Y1 += 0.00000000009 * Math.cos(3.75776745639 + 1911.1994832172 * t);
-        Y1 += 0.00000000012 * Math.cos(4.51598356731 + 176953.98994186718 * t);
-        Y1 += 0.00000000011 * Math.cos(3.03748956531 + 12725.453434775 * t);
-        Y1 += 0.00000000009 * Math.cos(0.04073004429 + 52609.51802102519 * t);
-        Y1 += 0.00000000009 * Math.cos(1.91710703544 + 55516.4187098482 * t);
-        Y1 += 0.00000000010 * Math.cos(0.81972980160 + 52022.0274726636 * t);
-        Y1 += 0.00000000008 * Math.cos(4.36451680511 + 52182.4348420484 * t);
-        Y1 += 0.00000000011 * Math.cos(1.79573927984 + 157057.10981453978 * t);
-        Y1 += 0.00000000010 * Math.cos(0.38285944104 + 52381.99183158559 * t);
-        Y1 += 0.00000000009 * Math.cos(4.83864149352 + 19.66976089979 * t);
-        Y1 += 0.00000000008 * Math.cos(4.79233550623 + 27177.6119327678 * t);
-        Y1 += 0.00000000008 * Math.cos(4.01288217857 + 24998.19435038059 * t);
-        Y1 += 0.00000000008 * Math.cos(2.85801662646 + 26720.68688088739 * t);
-        Y1 += 0.00000000008 * Math.cos(4.56240457496 + 48847.6706268682 * t);
-        Y1 += 0.00000000008 * Math.cos(4.66429418352 + 860.3099287528 * t);
-        Y1 += 0.00000000008 * Math.cos(0.38701534981 + 13541.42120249119 * t);
-        Y1 += 0.00000000008 * Math.cos(4.10511816483 + 1223.81784077861 * t);
-        Y1 += 0.00000000007 * Math.cos(0.36409349149 + 68241.87214462319 * t);
-        Y1 += 0.00000000008 * Math.cos(1.38258172759 + 52595.29092702359 * t);
-        Y1 += 0.00000000008 * Math.cos(0.52005477263 + 130446.62925487179 * t);
-        Y1 += 0.00000000007 * Math.cos(1.77349206529 + 50696.93970908399 * t);
-        Y1 += 0.00000000009 * Math.cos(1.66361806448 + 130443.39704322898 * t);
-        Y1 += 0.00000000007 * Math.cos(0.73615049600 + 209812.60368468695 * t);
-        Y1 += 0.00000000009 * Math.cos(1.23134600870 + 52169.17772424839 * t);
-        Y1 += 0.00000000007 * Math.cos(2.07118222069 + 172402.03644480839 * t);
-        Y1 += 0.00000000007 * Math.cos(5.46443083494 + 846.0828347512 * t);
-        Y1 += 0.00000000007 * Math.cos(1.93763204899 + 35472.7441496494 * t);
-        Y1 += 0.00000000007 * Math.cos(1.48249068512 + 27044.1922975448 * t);
-        Y1 += 0.00000000007 * Math.cos(0.42254434487 + 150244.34299945379 * t);
-        Y1 += 0.00000000009 * Math.cos(2.36048752326 + 26734.913974889 * t);
-        Y1 += 0.00000000007 * Math.cos(3.18648827109 + 52325.36948028299 * t);
-        Y1 += 0.00000000007 * Math.cos(2.24046065624 + 9384.8410080752 * t);
-        Y1 += 0.00000000007 * Math.cos(3.81340646490 + 80596.9058175946 * t);
-        Y1 += 0.00000000006 * Math.cos(2.21280392322 + 52278.89905736699 * t);
-        Y1 += 0.00000000008 * Math.cos(2.16932671663 + 129387.24732468258 * t);
-        Y1 += 0.00000000008 * Math.cos(1.13965005489 + 25234.70675982219 * t);
-        Y1 += 0.00000000008 * Math.cos(6.21586114247 + 77726.90491262719 * t);
-        Y1 += 0.00000000006 * Math.cos(5.71782638960 + 79330.20490191258 * t);
-        Y1 += 0.00000000007 * Math.cos(3.99442191803 + 78378.14871340781 * t);
-        Y1 += 0.00000000006 * Math.cos(2.63385868818 + 129373.02023068098 * t);
-        Y1 += 0.00000000007 * Math.cos(0.06529608191 + 26162.6847401415 * t);
-        Y1 += 0.00000000006 * Math.cos(1.55390090257 + 51013.33157874059 * t);
-        Y1 += 0.00000000006 * Math.cos(3.29219308990 + 75615.25459924959 * t);
-        Y1 += 0.00000000007 * Math.cos(5.23140732853 + 157483.01859105378 * t);
-        Y1 += 0.00000000006 * Math.cos(2.46763974875 + 26013.1215430069 * t);
-        Y1 += 0.00000000006 * Math.cos(6.03059495880 + 137678.19129947099 * t);
-        Y1 += 0.00000000006 * Math.cos(2.93834812676 + 130652.81480330898 * t);
-        Y1 += 0.00000000007 * Math.cos(6.14935848430 + 77630.92568540938 * t);
-        Y1 += 0.00000000006 * Math.cos(4.96304042103 + 25508.2155545754 * t);
-        Y1 += 0.00000000006 * Math.cos(3.84217726377 + 26667.590728573 * t);
-        Y1 += 0.00000000006 * Math.cos(0.29225742955 + 6885.14988993081 * t);
-        Y1 += 0.00000000006 * Math.cos(2.18079162130 + 103917.90082841998 * t);
-        Y1 += 0.00000000008 * Math.cos(5.64484638063 + 157586.80077963437 * t);
-        Y1 += 0.00000000006 * Math.cos(4.16879920974 + 80382.47328510099 * t);
-        Y1 += 0.00000000006 * Math.cos(0.66117422106 + 34282.1784747828 * t);
-        Y1 += 0.00000000007 * Math.cos(3.20892469724 + 214364.55718174578 * t);
-        Y1 += 0.00000000007 * Math.cos(2.79508447590 + 25754.0472008048 * t);
-        Y1 += 0.00000000007 * Math.cos(6.01013320890 + 26421.7590823436 * t);
-        Y1 += 0.00000000006 * Math.cos(4.43814061291 + 78149.27013603736 * t);
-        Y1 += 0.00000000005 * Math.cos(5.60856067263 + 50064.15596977079 * t);
-        Y1 += 0.00000000006 * Math.cos(1.06133168572 + 128220.75860368418 * t);
-        Y1 += 0.00000000005 * Math.cos(4.48886015660 + 130226.21661243298 * t);
-        Y1 += 0.00000000006 * Math.cos(4.78075047395 + 123668.80510662538 * t);
-        Y1 += 0.00000000005 * Math.cos(4.50559999191 + 110.2063212194 * t);
-        Y1 += 0.00000000005 * Math.cos(5.89140407331 + 102769.65321801379 * t);
-        Y1 += 0.00000000005 * Math.cos(2.50213086189 + 19406.6782881746 * t);
-        Y1 += 0.00000000006 * Math.cos(1.60825783072 + 103932.12792242158 * t);
-        Y1 += 0.00000000006 * Math.cos(0.24754368045 + 161079.37234650398 * t);
-        Y1 += 0.00000000006 * Math.cos(3.54848918635 + 86143.79857806159 * t);
-        Y1 += 0.00000000007 * Math.cos(5.68676720253 + 64901.25971792339 * t);
-        Y1 += 0.00000000006 * Math.cos(1.96214622184 + 1265.5674786264 * t);
-        Y1 += 0.00000000005 * Math.cos(5.11989980868 + 78213.71280281838 * t);
-        Y1 += 0.00000000006 * Math.cos(5.18848518823 + 182085.63102592478 * t);
-        Y1 += 0.00000000006 * Math.cos(0.59952467665 + 51653.22886505459 * t);
-        Y1 += 0.00000000005 * Math.cos(5.44401843923 + 102755.42612401219 * t);
-        Y1 += 0.00000000006 * Math.cos(1.15772089340 + 8194.2753332086 * t);
-        Y1 += 0.00000000005 * Math.cos(0.85038224536 + 53399.624123927 * t);
-        Y1 += 0.00000000005 * Math.cos(2.42671724536 + 27780.06881107659 * t);
-        Y1 += 0.00000000005 * Math.cos(5.22476504934 + 26402.0893214438 * t);
-        Y1 += 0.00000000005 * Math.cos(3.58045263546 + 25773.71696170459 * t);
-        Y1 += 0.00000000006 * Math.cos(3.39764117475 + 6283.0758499914 * t);
-        Y1 += 0.00000000005 * Math.cos(2.42996301937 + 25938.3399444396 * t);
-        Y1 += 0.00000000005 * Math.cos(0.01470040312 + 77616.69859140778 * t);
-        Y1 += 0.00000000006 * Math.cos(4.89504933760 + 50049.92887576919 * t);
-        Y1 += 0.00000000005 * Math.cos(1.99586214710 + 17893.6278083656 * t);
-        Y1 += 0.00000000004 * Math.cos(6.00566134496 + 167850.08294774959 * t);
-        Y1 += 0.00000000006 * Math.cos(5.77707621428 + 154938.34595416138 * t);
-        Y1 += 0.00000000005 * Math.cos(4.78954041827 + 3340.6124266998 * t);
-        Y1 += 0.00000000004 * Math.cos(0.97602564752 + 130432.40216087017 * t);
-        Y1 += 0.00000000004 * Math.cos(0.40741730958 + 51852.30086649099 * t);
-        Y1 += 0.00000000005 * Math.cos(1.35488481256 + 204151.27163553478 * t);
-        Y1 += 0.00000000004 * Math.cos(3.67345614971 + 636.9962720242 * t);
-        Y1 += 0.00000000004 * Math.cos(2.74223078461 + 116783.65521669458 * t);
-        Y1 += 0.00000000005 * Math.cos(2.74366605427 + 39450.3528483734 * t);
-        Y1 += 0.00000000004 * Math.cos(1.23165526523 + 51955.39364070959 * t);
-        Y1 += 0.00000000004 * Math.cos(4.09127907081 + 103498.41618454478 * t);
-        Y1 += 0.00000000004 * Math.cos(2.37045324906 + 45290.65639321759 * t);
-        Y1 += 0.00000000005 * Math.cos(0.06895267430 + 52396.2189255872 * t);
-        Y1 += 0.00000000004 * Math.cos(2.56354623790 + 104505.39137678158 * t);
-        Y1 += 0.00000000005 * Math.cos(5.71032452100 + 123200.84011627098 * t);
-        Y1 += 0.00000000004 * Math.cos(0.59460014711 + 28791.5192962498 * t);
-        Y1 += 0.00000000004 * Math.cos(1.92743223051 + 23384.2869868986 * t);
-        Y1 += 0.00000000005 * Math.cos(4.52669072840 + 53029.0026649004 * t);
-        Y1 += 0.00000000004 * Math.cos(1.81268637965 + 26823.77965510599 * t);
-        Y1 += 0.00000000004 * Math.cos(0.70934599797 + 25352.02662804239 * t);
-        Y1 += 0.00000000004 * Math.cos(3.53975344268 + 133882.09065283638 * t);
-        Y1 += 0.00000000004 * Math.cos(3.01935498774 + 50483.640613646 * t);
-        Y1 += 0.00000000004 * Math.cos(2.01334717451 + 183570.92173262799 * t);
-        Y1 += 0.00000000004 * Math.cos(3.22384434044 + 53771.99272543299 * t);
-        Y1 += 0.00000000005 * Math.cos(5.28711139263 + 145204.75475114079 * t);
-        Y1 += 0.00000000004 * Math.cos(1.34862695530 + 27170.98337386779 * t);
-        Y1 += 0.00000000004 * Math.cos(1.17340542232 + 25004.8229092806 * t);
-        Y1 += 0.00000000004 * Math.cos(0.14217969958 + 78786.28684281638 * t);
-        Y1 += 0.00000000004 * Math.cos(3.51787698369 + 1795.258443721 * t);
-        Y1 += 0.00000000005 * Math.cos(1.84426394169 + 26709.6469424134 * t);
-        Y1 += 0.00000000005 * Math.cos(0.67776843593 + 25466.159340735 * t);
-        Y1 += 0.00000000005 * Math.cos(1.25657099336 + 32132.1317229496 * t);
-        Y1 += 0.00000000004 * Math.cos(4.27093115110 + 52065.59996192899 * t);
-        Y1 += 0.00000000004 * Math.cos(0.10710186975 + 2221.856634597 * t);
-        Y1 += 0.00000000004 * Math.cos(1.11438053331 + 78270.33798362259 * t);
-        Y1 += 0.00000000004 * Math.cos(2.21736054801 + 96357.08412427259 * t);
-        Y1 += 0.00000000004 * Math.cos(3.34685106694 + 949.1756089698 * t);
-        Y1 += 0.00000000004 * Math.cos(1.34025094893 + 6044.2285813754 * t);
-        Y1 += 0.00000000004 * Math.cos(4.90309780700 + 143005.66740785378 * t);
-        Y1 += 0.00000000004 * Math.cos(1.70672949321 + 78800.51393681798 * t);
-        Y1 += 0.00000000004 * Math.cos(0.90136038469 + 132658.27281205778 * t);
-        Y1 += 0.00000000004 * Math.cos(6.04765404465 + 54087.0057663656 * t);
-        Y1 += 0.00000000004 * Math.cos(3.45396433025 + 130459.18546877075 * t);
-        Y1 += 0.00000000004 * Math.cos(2.57433955449 + 3178.1457905676 * t);
-        Y1 += 0.00000000004 * Math.cos(3.39420749098 + 52250.5878817157 * t);
-        Y1 += 0.00000000004 * Math.cos(2.89280023626 + 87367.61641884019 * t);
-        Y1 += 0.00000000003 * Math.cos(2.73132197327 + 78160.61665050399 * t);
-        Y1 += 0.00000000003 * Math.cos(4.14416998165 + 114.43928868521 * t);
-        Y1 += 0.00000000004 * Math.cos(0.15780189015 + 130435.63437251298 * t);
-        Y1 += 0.00000000004 * Math.cos(0.06711300408 + 26575.53789282839 * t);
-        Y1 += 0.00000000004 * Math.cos(2.45491937354 + 25600.26839032 * t);
-        Y1 += 0.00000000003 * Math.cos(5.37713404461 + 1485.9801210652 * t);
-        Y1 += 0.00000000003 * Math.cos(0.35934615572 + 52309.9153327334 * t);
-        Y1 += 0.00000000003 * Math.cos(5.05649683266 + 70383.6202713836 * t);
-        Y1 += 0.00000000003 * Math.cos(2.84685809679 + 52252.07235442399 * t);
-        Y1 += 0.00000000005 * Math.cos(0.41148055834 + 52808.59002246159 * t);
-        Y1 += 0.00000000004 * Math.cos(4.17938922255 + 58857.03113654799 * t);
-        Y1 += 0.00000000004 * Math.cos(3.20092050693 + 51951.46148744649 * t);
-        Y1 += 0.00000000003 * Math.cos(2.40144059169 + 50264.6067999312 * t);
-        Y1 += 0.00000000004 * Math.cos(1.17285198222 + 20043.6745601988 * t);
-        Y1 += 0.00000000003 * Math.cos(0.93320061996 + 81591.84508100279 * t);
-        Y1 += 0.00000000003 * Math.cos(3.96547374476 + 25985.94062330859 * t);
-        Y1 += 0.00000000003 * Math.cos(4.83974394004 + 26189.8656598398 * t);
-        Y1 += 0.00000000004 * Math.cos(1.45951607601 + 136722.59155786238 * t);
-        Y1 += 0.00000000003 * Math.cos(0.03403776890 + 23969.1392811958 * t);
-        Y1 += 0.00000000003 * Math.cos(4.75567563333 + 61560.64729122359 * t);
-        Y1 += 0.00000000003 * Math.cos(2.62671587640 + 181026.24909573558 * t);
-        Y1 += 0.00000000004 * Math.cos(3.79559151920 + 128320.75184749259 * t);
-        Y1 += 0.00000000004 * Math.cos(0.32749351115 + 129799.61842155698 * t);
-        Y1 += 0.00000000003 * Math.cos(4.92235874244 + 26073.67604757259 * t);
-        Y1 += 0.00000000003 * Math.cos(3.88285894236 + 26102.1302355758 * t);
-        Y1 += 0.00000000004 * Math.cos(0.30171000276 + 467.9649903544 * t);
-        Y1 += 0.00000000003 * Math.cos(0.49521348870 + 2703.6161546756 * t);
-        Y1 += 0.00000000003 * Math.cos(2.83604151145 + 19202.75325164339 * t);
-        Y1 += 0.00000000004 * Math.cos(1.29687523233 + 37698.4550999484 * t);
-        Y1 += 0.00000000003 * Math.cos(1.87341446779 + 26247.2048763664 * t);
-        Y1 += 0.00000000003 * Math.cos(0.64861790983 + 25928.601406782 * t);
-        Y1 += 0.00000000003 * Math.cos(2.68609993628 + 103.0927742186 * t);
-        Y1 += 0.00000000004 * Math.cos(3.27872430484 + 132028.58860315479 * t);
-        Y1 += 0.00000000003 * Math.cos(1.46102417169 + 75930.51303185058 * t);
-        Y1 += 0.00000000004 * Math.cos(5.86092912592 + 166740.70439565618 * t);
-        Y1 += 0.00000000003 * Math.cos(0.00693087411 + 79315.97780791098 * t);
-        Y1 += 0.00000000003 * Math.cos(3.05784222447 + 130866.11389874699 * t);
-        Y1 += 0.00000000003 * Math.cos(3.64997039969 + 35077.37084700659 * t);
-        Y1 += 0.00000000003 * Math.cos(0.66136657530 + 51868.2486621788 * t);
-        Y1 += 0.00000000003 * Math.cos(4.90383671624 + 76784.84285065818 * t);
-        Y1 += 0.00000000004 * Math.cos(5.11822399207 + 78109.93061423779 * t);
-        Y1 += 0.00000000003 * Math.cos(5.09644922263 + 121335.60871375339 * t);
-        Y1 += 0.00000000003 * Math.cos(4.15087523006 + 52286.01260436779 * t);
-        Y1 += 0.00000000003 * Math.cos(4.49117697679 + 77101.23472031478 * t);
-        Y1 += 0.00000000003 * Math.cos(4.40672346738 + 77741.13200662879 * t);
-        Y1 += 0.00000000003 * Math.cos(1.17033111095 + 74.7815985673 * t);
-        Y1 += 0.00000000003 * Math.cos(1.72068912262 + 24505.94379329119 * t);
-        Y1 += 0.00000000004 * Math.cos(4.47958960947 + 28286.9904848612 * t);
-        Y1 += 0.00000000004 * Math.cos(4.32562807533 + 23888.81579828719 * t);
-        Y1 += 0.00000000002 * Math.cos(0.15001821237 + 48835.19385644859 * t);
-        Y1 += 0.00000000002 * Math.cos(1.69313010887 + 182188.72380014337 * t);
-        Y1 += 0.00000000003 * Math.cos(4.67718054767 + 27250.37784598199 * t);
-        Y1 += 0.00000000003 * Math.cos(4.13971825138 + 51315.49635439559 * t);
-        Y1 += 0.00000000003 * Math.cos(2.73499122343 + 26011.6370702986 * t);
-        Y1 += 0.00000000002 * Math.cos(1.21896533465 + 2008.557539159 * t);
-        Y1 += 0.00000000002 * Math.cos(1.13182429686 + 126996.94076290558 * t);
-        Y1 += 0.00000000002 * Math.cos(3.33832397299 + 24925.4284371664 * t);
-        Y1 += 0.00000000002 * Math.cos(3.34607115822 + 51329.7234483972 * t);
-        Y1 += 0.00000000003 * Math.cos(4.94974770833 + 81604.32185142238 * t);
-        Y1 += 0.00000000003 * Math.cos(5.66982181767 + 52812.8025551726 * t);
-        Y1 += 0.00000000003 * Math.cos(0.02173421963 + 391318.54712361297 * t);
-        Y1 += 0.00000000002 * Math.cos(2.96978628967 + 196137.07343261078 * t);
-        Y1 += 0.00000000003 * Math.cos(1.28173018247 + 156507.74908854539 * t);
-        Y1 += 0.00000000003 * Math.cos(0.93767773997 + 27726.9726587622 * t);
-        Y1 += 0.00000000003 * Math.cos(1.58435463765 + 24448.8336243862 * t);
-        Y1 += 0.00000000002 * Math.cos(5.77422284047 + 78057.52387628538 * t);
-        Y1 += 0.00000000002 * Math.cos(4.07811706723 + 8989.46770543239 * t);
-        Y1 += 0.00000000003 * Math.cos(3.17950494103 + 78313.70604662679 * t);
-        Y1 += 0.00000000003 * Math.cos(1.26777637523 + 203041.89308344138 * t);
-        Y1 += 0.00000000002 * Math.cos(5.82933637566 + 38634.3850806572 * t);
-        Y1 += 0.00000000003 * Math.cos(2.77488316132 + 34082.4315835984 * t);
-        Y1 += 0.00000000002 * Math.cos(2.71698289856 + 163766.09444104518 * t);
-        Y1 += 0.00000000003 * Math.cos(4.25851095793 + 78257.08086582259 * t);
-        Y1 += 0.00000000003 * Math.cos(1.95628126873 + 52041.69723356339 * t);
-        Y1 += 0.00000000002 * Math.cos(3.46648506780 + 104819.57755665119 * t);
-        Y1 += 0.00000000002 * Math.cos(5.05493269125 + 62197.64356324779 * t);
-        Y1 += 0.00000000002 * Math.cos(2.31391865561 + 65717.22748563958 * t);
-        Y1 += 0.00000000003 * Math.cos(3.67398707035 + 113341.08027172917 * t);
-        Y1 += 0.00000000002 * Math.cos(0.57819709496 + 66653.15746634839 * t);
-        Y1 += 0.00000000002 * Math.cos(5.81134538507 + 74923.09699802278 * t);
-        Y1 += 0.00000000002 * Math.cos(5.31799111712 + 17098.43543614181 * t);
-        Y1 += 0.00000000002 * Math.cos(3.54866382542 + 78469.89497315978 * t);
-        Y1 += 0.00000000002 * Math.cos(0.63534070468 + 77307.42026875199 * t);
-        Y1 += 0.00000000002 * Math.cos(5.30685200110 + 104991.50985261079 * t);
-        Y1 += 0.00000000002 * Math.cos(1.01052937078 + 101703.15774082378 * t);
-        Y1 += 0.00000000002 * Math.cos(2.46838836063 + 26312.2479372761 * t);
-        Y1 += 0.00000000002 * Math.cos(1.48861622297 + 50951.98844236979 * t);
-        Y1 += 0.00000000002 * Math.cos(5.52205824738 + 91919.56991589899 * t);
-        Y1 += 0.00000000002 * Math.cos(1.43776747042 + 99024.13645791399 * t);
-        Y1 += 0.00000000002 * Math.cos(2.07491313678 + 225687.22128005016 * t);
-        Y1 += 0.00000000002 * Math.cos(2.45878629397 + 26183.88236879199 * t);
-        Y1 += 0.00000000002 * Math.cos(0.06324608365 + 25991.92391435639 * t);
-        Y1 += 0.00000000003 * Math.cos(3.66137462974 + 51534.3927214094 * t);
-        Y1 += 0.00000000002 * Math.cos(4.79894731382 + 183145.01295611398 * t);
-        Y1 += 0.00000000002 * Math.cos(1.16884626410 + 26397.18146422999 * t);
-        Y1 += 0.00000000002 * Math.cos(1.35318611352 + 25778.62481891839 * t);
-        Y1 += 0.00000000002 * Math.cos(3.47961101671 + 42790.9652750732 * t);
-        Y1 += 0.00000000002 * Math.cos(3.54021512986 + 51538.81001112419 * t);
-        Y1 += 0.00000000002 * Math.cos(2.45627954068 + 24952.226269681 * t);
-        Y1 += 0.00000000002 * Math.cos(0.06575283694 + 27223.5800134674 * t);
-        Y1 += 0.00000000002 * Math.cos(2.99909862001 + 103718.82882698359 * t);
-        Y1 += 0.00000000002 * Math.cos(1.64606671842 + 25984.1209529936 * t);
-        Y1 += 0.00000000002 * Math.cos(0.87596565920 + 26191.68533015479 * t);
-        Y1 += 0.00000000002 * Math.cos(5.44690335938 + 25927.49577218939 * t);
-        Y1 += 0.00000000002 * Math.cos(3.35831432542 + 26248.310510959 * t);
-        Y1 += 0.00000000002 * Math.cos(1.80317516125 + 177287.84588263658 * t);
-        Y1 += 0.00000000002 * Math.cos(5.05959592679 + 118828.96374949679 * t);
-        Y1 += 0.00000000002 * Math.cos(1.57407073796 + 53265.515074342 * t);
-        Y1 += 0.00000000002 * Math.cos(6.17867775538 + 51841.950342379 * t);
-        Y1 += 0.00000000002 * Math.cos(0.52784265993 + 29550.14784743939 * t);
-        Y1 += 0.00000000002 * Math.cos(1.99418971769 + 22625.658435709 * t);
-        Y1 += 0.00000000002 * Math.cos(6.15702102064 + 27037.07875054399 * t);
-        Y1 += 0.00000000002 * Math.cos(2.64819666416 + 25138.7275326044 * t);
-        Y1 += 0.00000000002 * Math.cos(4.84158872259 + 52817.21984488739 * t);
-        Y1 += 0.00000000002 * Math.cos(4.00429984448 + 87253.17713015496 * t);
-        Y1 += 0.00000000002 * Math.cos(0.01411567213 + 168959.46149984296 * t);
-        Y1 += 0.00000000002 * Math.cos(2.22725796457 + 104202.04936916218 * t);
-        Y1 += 0.00000000002 * Math.cos(2.07951392438 + 233731.74634397858 * t);
-        Y1 += 0.00000000002 * Math.cos(4.90161061296 + 102018.41617342478 * t);
-        Y1 += 0.00000000002 * Math.cos(1.72258811309 + 54824.2611086214 * t);
-        Y1 += 0.00000000002 * Math.cos(0.55814555148 + 50910.238804522 * t);
-        Y1 += 0.00000000002 * Math.cos(1.51894844260 + 51859.41441349179 * t);
-        Y1 += 0.00000000002 * Math.cos(0.57437116940 + 25131.61398560359 * t);
-        Y1 += 0.00000000002 * Math.cos(2.82794115256 + 24609.0365675098 * t);
-        Y1 += 0.00000000002 * Math.cos(6.28078149044 + 25863.55834587229 * t);
-        Y1 += 0.00000000002 * Math.cos(2.83592703830 + 53757.76563143139 * t);
-        Y1 += 0.00000000002 * Math.cos(4.03688605095 + 52492.19815280499 * t);
-        Y1 += 0.00000000002 * Math.cos(3.93802376646 + 26076.8574413103 * t);
-        Y1 += 0.00000000002 * Math.cos(4.86719391834 + 26098.9488418381 * t);
-        Y1 += 0.00000000002 * Math.cos(3.37995643779 + 176332.24614102798 * t);
-        Y1 += 0.00000000002 * Math.cos(3.60695289838 + 78896.49316403578 * t);
-        Y1 += 0.00000000002 * Math.cos(4.97912201809 + 26411.4085582316 * t);
-        Y1 += 0.00000000002 * Math.cos(2.85499495780 + 181659.72224941078 * t);
-        Y1 += 0.00000000002 * Math.cos(1.87598894439 + 52483.36390411799 * t);
-        Y1 += 0.00000000001 * Math.cos(3.06891862205 + 27351.06050415239 * t);
-        Y1 += 0.00000000001 * Math.cos(5.73629906275 + 24824.745778996 * t);
-        Y1 += 0.00000000001 * Math.cos(3.09801335678 + 78697.42116259939 * t);
-        Y1 += 0.00000000001 * Math.cos(1.67825434512 + 51596.1186961496 * t);
-        Y1 += 0.00000000001 * Math.cos(2.50491935869 + 153084.84390447979 * t);
-        Y1 += 0.00000000002 * Math.cos(2.96585642839 + 103814.80805420138 * t);
-        Y1 += 0.00000000002 * Math.cos(5.41433241516 + 51226.63067417859 * t);
-        Y1 += 0.00000000001 * Math.cos(1.46779104995 + 231348.55332920236 * t);
-        Y1 += 0.00000000002 * Math.cos(0.08777712054 + 23976.2528281966 * t);
-        Y1 += 0.00000000002 * Math.cos(5.45481395203 + 149642.26895951436 * t);
-        Y1 += 0.00000000002 * Math.cos(5.14888486482 + 23962.02573419499 * t);
-        Y1 += 0.00000000001 * Math.cos(3.87951272011 + 112545.88789950538 * t);
-        Y1 += 0.00000000001 * Math.cos(2.62874092556 + 189853.99758261938 * t);
-        Y1 += 0.00000000001 * Math.cos(3.14624674879 + 54879.422437824 * t);
-        Y1 += 0.00000000002 * Math.cos(3.37548806405 + 94329.77528619739 * t);
-        Y1 += 0.00000000001 * Math.cos(3.22111896048 + 52509.6622239178 * t);
-        Y1 += 0.00000000002 * Math.cos(4.07843204929 + 26713.57333388659 * t);
-        Y1 += 0.00000000002 * Math.cos(4.72678563551 + 25462.2329492618 * t);
-        Y1 += 0.00000000002 * Math.cos(2.54595097754 + 23919.1426592916 * t);
-        Y1 += 0.00000000002 * Math.cos(6.25926670726 + 28256.66362385679 * t);
-        Y1 += 0.00000000002 * Math.cos(3.20475280547 + 80174.90890793978 * t);
-        Y1 += 0.00000000001 * Math.cos(0.01220959090 + 28199.55345495179 * t);
-        Y1 += 0.00000000002 * Math.cos(1.82803437881 + 125112.03959948818 * t);
-        Y1 += 0.00000000001 * Math.cos(1.92944311048 + 26933.9859763254 * t);
-        Y1 += 0.00000000001 * Math.cos(0.59258926714 + 25241.820306823 * t);
-        Y1 += 0.00000000001 * Math.cos(3.30576238641 + 241561.83887541336 * t);
-        Y1 += 0.00000000001 * Math.cos(5.28557867032 + 50380.54783942739 * t);
-        Y1 += 0.00000000001 * Math.cos(6.27614032109 + 215473.93573383916 * t);
-        Y1 += 0.00000000002 * Math.cos(4.04923139057 + 27566.76971563859 * t);
-        Y1 += 0.00000000001 * Math.cos(0.20613619394 + 106262.81204951399 * t);
-        Y1 += 0.00000000001 * Math.cos(2.40978376724 + 49953.94964855139 * t);
-        Y1 += 0.00000000001 * Math.cos(5.41286890292 + 155460.92337225519 * t);
-        Y1 += 0.00000000001 * Math.cos(4.12537467992 + 163298.12945069079 * t);
-        Y1 += 0.00000000002 * Math.cos(0.20694684105 + 25440.89230825939 * t);
-        Y1 += 0.00000000001 * Math.cos(2.80241855615 + 26926.87242932459 * t);
-        Y1 += 0.00000000001 * Math.cos(6.00279912865 + 25248.9338538238 * t);
-        Y1 += 0.00000000001 * Math.cos(4.53786604484 + 205260.65018762815 * t);
-        Y1 += 0.00000000001 * Math.cos(5.35982042099 + 128106.31931499895 * t);
-        Y1 += 0.00000000002 * Math.cos(0.12452737797 + 142871.55835826878 * t);
-        Y1 += 0.00000000001 * Math.cos(6.22889842287 + 48997.6604925808 * t);
-        Y1 += 0.00000000001 * Math.cos(3.64991019877 + 27005.83342755599 * t);
-        Y1 += 0.00000000001 * Math.cos(5.15530748603 + 25169.9728555924 * t);
-        Y1 += 0.00000000001 * Math.cos(3.42636128355 + 50689.82616208319 * t);
-        Y1 += 0.00000000001 * Math.cos(4.02494689929 + 112231.70171963578 * t);
-        Y1 += 0.00000000001 * Math.cos(3.17879397547 + 90989.16285949759 * t);
-        Y1 += 0.00000000001 * Math.cos(0.12352160841 + 143980.93691036216 * t);
-        Y1 += 0.00000000001 * Math.cos(2.50393985667 + 76152.05911134499 * t);
-        Y1 += 0.00000000001 * Math.cos(6.25922905509 + 91805.13062721379 * t);
-        Y1 += 0.00000000001 * Math.cos(6.12692757039 + 84307.93800609799 * t);
-        Y1 += 0.00000000001 * Math.cos(3.46792746542 + 138319.60486120995 * t);
-        Y1 += 0.00000000001 * Math.cos(5.69844148915 + 92741.06060792258 * t);
-        Y1 += 0.00000000001 * Math.cos(4.24960627112 + 24072.9214697764 * t);
-        Y1 += 0.00000000001 * Math.cos(4.55561141368 + 28102.884813372 * t);
-        Y1 += 0.00000000001 * Math.cos(6.16493393350 + 24395.7374720718 * t);
-        Y1 += 0.00000000001 * Math.cos(5.22888939483 + 24844.41553989579 * t);
-        Y1 += 0.00000000001 * Math.cos(3.57632828997 + 27331.3907432526 * t);
-        Y1 += 0.00000000001 * Math.cos(0.38942177438 + 154408.65498906678 * t);
-        Y1 += 0.00000000001 * Math.cos(2.78357107118 + 193937.98608932378 * t);
-        Y1 += 0.00000000001 * Math.cos(4.05552152915 + 58220.0348645238 * t);
-        Y1 += 0.00000000001 * Math.cos(0.81202957380 + 97670.38771289718 * t);
-        Y1 += 0.00000000001 * Math.cos(2.55908057007 + 60370.08161635699 * t);
-        Y1 += 0.00000000001 * Math.cos(3.06090263008 + 24356.7807886416 * t);
-        Y1 += 0.00000000001 * Math.cos(5.74431505472 + 27819.0254945068 * t);
-        Y1 += 0.00000000001 * Math.cos(3.77400510642 + 25764.39772491679 * t);
-        Y1 += 0.00000000001 * Math.cos(4.14180223370 + 151199.94274106238 * t);
-        Y1 += 0.00000000001 * Math.cos(5.05251600508 + 209658.82487420218 * t);
-        Y1 += 0.00000000001 * Math.cos(3.84356790046 + 23704.71012679799 * t);
-        Y1 += 0.00000000001 * Math.cos(4.96164978434 + 28471.0961563504 * t);
-        Y1 += 0.00000000001 * Math.cos(0.26444294836 + 23439.44831610119 * t);
-        Y1 += 0.00000000001 * Math.cos(3.64905591301 + 51439.92976961659 * t);
-        Y1 += 0.00000000001 * Math.cos(2.45569831568 + 26177.38888942019 * t);
-        Y1 += 0.00000000001 * Math.cos(0.06633406194 + 25998.4173937282 * t);
-        Y1 += 0.00000000001 * Math.cos(0.41633866770 + 233681.74972207438 * t);
-        Y1 += 0.00000000001 * Math.cos(1.60238548900 + 21650.38893320061 * t);
-        Y1 += 0.00000000001 * Math.cos(0.91964688862 + 30525.41734994779 * t);
-        Y1 += 0.00000000001 * Math.cos(4.32794152273 + 159855.55450572536 * t);
-        Y1 += 0.00000000001 * Math.cos(2.57975917809 + 24203.0019781568 * t);
-        Y1 += 0.00000000001 * Math.cos(6.22545850671 + 27972.80430499159 * t);
-        Y1 += 0.00000000001 * Math.cos(1.69909342383 + 26094.53170047421 * t);
-        Y1 += 0.00000000001 * Math.cos(2.25118383840 + 104197.83375581198 * t);
-        Y1 += 0.00000000001 * Math.cos(1.28948419377 + 50167.24874398939 * t);
-        Y1 += 0.00000000001 * Math.cos(3.16953164459 + 199599.31813847595 * t);
-        Y1 += 0.00000000001 * Math.cos(6.26093145675 + 78413.27262185719 * t);
-        Y1 += 0.00000000001 * Math.cos(4.71083057280 + 156531.30018480319 * t);
-        Y1 += 0.00000000001 * Math.cos(5.34553007074 + 147423.51185532758 * t);
-        Y1 += 0.00000000001 * Math.cos(2.69486500780 + 247223.17092456557 * t);
-        Y1 += 0.00000000001 * Math.cos(2.94258825469 + 25151.97316086539 * t);
-        Y1 += 0.00000000001 * Math.cos(5.86262943011 + 27023.833122283 * t);
-        Y1 += 0.00000000001 * Math.cos(2.39382184066 + 183674.70392120858 * t);
-        Y1 += 0.00000000001 * Math.cos(3.49918672345 + 97466.46267636596 * t);
-        Y1 += 0.00000000001 * Math.cos(4.49841046349 + 26126.036177212 * t);
-        Y1 += 0.00000000001 * Math.cos(4.30680722131 + 26049.7701059364 * t);
-        Y1 += 0.00000000001 * Math.cos(3.77812730736 + 27388.72995977919 * t);
-        Y1 += 0.00000000001 * Math.cos(5.02709037744 + 24787.0763233692 * t);
-        Y1 += 0.00000000001 * Math.cos(0.16003886949 + 132350.71519108818 * t);
-        Y1 += 0.00000000001 * Math.cos(5.22928116569 + 155475.15046625677 * t);
-        Y1 += 0.00000000001 * Math.cos(3.60259923599 + 24602.61243487099 * t);
-        Y1 += 0.00000000001 * Math.cos(5.20261844881 + 27573.1938482774 * t);
-        Y1 += 0.00000000001 * Math.cos(5.11853435105 + 198489.93958638258 * t);
-        Y1 += 0.00000000001 * Math.cos(3.56429469477 + 156534.53239644598 * t);
-        Y1 += 0.00000000001 * Math.cos(5.23354450332 + 130005.80396999417 * t);
-        Y1 += 0.00000000001 * Math.cos(2.18749112623 + 77039.89158394396 * t);
-        Y1 += 0.00000000001 * Math.cos(4.70952350385 + 129215.69786709236 * t);
-        Y1 += 0.00000000001 * Math.cos(3.68396287904 + 25923.46723098479 * t);
-        Y1 += 0.00000000001 * Math.cos(5.12125480576 + 26252.33905216361 * t);
-        Y1 += 0.00000000001 * Math.cos(3.39554226843 + 73891.83305794839 * t);
-        Y1 += 0.00000000001 * Math.cos(5.91757464605 + 126067.63934109679 * t);
-        Y1 += 0.00000000001 * Math.cos(0.83086794433 + 30171.8916482786 * t);
-        Y1 += 0.00000000001 * Math.cos(1.69116443329 + 22003.9146348698 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 299 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00004612157;
-        Y2 += 0.00001575670 * Math.cos(2.81172733349 + 52175.8062831484 * t);
-        Y2 += 0.00000927896 * Math.cos(5.85368769122 + 78263.70942472259 * t);
-        Y2 += 0.00000670255 * Math.cos(0.90964509090 + 26087.9031415742 * t);
-        Y2 += 0.00000373744 * Math.cos(2.62279275699 + 104351.61256629678 * t);
-        Y2 += 0.00000131389 * Math.cos(5.67519052208 + 130439.51570787099 * t);
-        Y2 += 0.00000043188 * Math.cos(2.44402631830 + 156527.41884944518 * t);
-        Y2 += 0.00000013650 * Math.cos(5.49573569359 + 182615.32199101939 * t);
-        Y2 += 0.00000004206 * Math.cos(2.26403437926 + 208703.22513259358 * t);
-        Y2 += 0.00000002984 * Math.cos(6.06067837128 + 24978.5245894808 * t);
-        Y2 += 0.00000002686 * Math.cos(2.76365562250 + 27197.2816936676 * t);
-        Y2 += 0.00000001274 * Math.cos(5.31539852523 + 234791.12827416777 * t);
-        Y2 += 0.00000001027 * Math.cos(2.84300614786 + 51066.427731055 * t);
-        Y2 += 0.00000000381 * Math.cos(2.08333719811 + 260879.03141574195 * t);
-        Y2 += 0.00000000352 * Math.cos(5.82507812341 + 53285.1848352418 * t);
-        Y2 += 0.00000000335 * Math.cos(3.37537319389 + 1109.3785520934 * t);
-        Y2 += 0.00000000356 * Math.cos(5.90144515856 + 77154.33087262919 * t);
-        Y2 += 0.00000000178 * Math.cos(5.83879634770 + 1589.0728952838 * t);
-        Y2 += 0.00000000197 * Math.cos(2.58901447921 + 25132.3033999656 * t);
-        Y2 += 0.00000000165 * Math.cos(4.77968548608 + 1059.3819301892 * t);
-        Y2 += 0.00000000174 * Math.cos(6.19970518794 + 27043.5028831828 * t);
-        Y2 += 0.00000000138 * Math.cos(0.32050955420 + 21535.9496445154 * t);
-        Y2 += 0.00000000152 * Math.cos(3.46766299392 + 20426.571092422 * t);
-        Y2 += 0.00000000125 * Math.cos(4.32480488747 + 26617.5941066688 * t);
-        Y2 += 0.00000000117 * Math.cos(4.51608581878 + 25558.2121764796 * t);
-        Y2 += 0.00000000119 * Math.cos(0.26940576275 + 46514.4742339962 * t);
-        Y2 += 0.00000000113 * Math.cos(5.13479506099 + 286966.93455731616 * t);
-        Y2 += 0.00000000108 * Math.cos(1.00337547207 + 14765.2390432698 * t);
-        Y2 += 0.00000000126 * Math.cos(6.14682046798 + 23869.1460373874 * t);
-        Y2 += 0.00000000106 * Math.cos(1.37019536118 + 27147.28507176339 * t);
-        Y2 += 0.00000000121 * Math.cos(2.67342689025 + 103242.23401420339 * t);
-        Y2 += 0.00000000107 * Math.cos(2.67501768515 + 28306.66024576099 * t);
-        Y2 += 0.00000000103 * Math.cos(5.45719542646 + 31749.2351907264 * t);
-        Y2 += 0.00000000086 * Math.cos(3.58192012664 + 19317.1925403286 * t);
-        Y2 += 0.00000000095 * Math.cos(2.17047827218 + 4551.9534970588 * t);
-        Y2 += 0.00000000067 * Math.cos(4.81636058177 + 9103.9069941176 * t);
-        Y2 += 0.00000000077 * Math.cos(0.22294716973 + 22645.32819660879 * t);
-        Y2 += 0.00000000066 * Math.cos(2.34654801419 + 3442.5749449654 * t);
-        Y2 += 0.00000000059 * Math.cos(3.32463299177 + 72602.37737557039 * t);
-        Y2 += 0.00000000060 * Math.cos(2.26631911660 + 30639.856638633 * t);
-        Y2 += 0.00000000059 * Math.cos(2.98425907470 + 50586.73338786459 * t);
-        Y2 += 0.00000000060 * Math.cos(0.99475775846 + 52705.49724824299 * t);
-        Y2 += 0.00000000059 * Math.cos(1.55381311926 + 37410.5672398786 * t);
-        Y2 += 0.00000000066 * Math.cos(5.36962395931 + 51220.20654153979 * t);
-        Y2 += 0.00000000058 * Math.cos(5.26315302410 + 32858.61374281979 * t);
-        Y2 += 0.00000000052 * Math.cos(3.78393573371 + 639.897286314 * t);
-        Y2 += 0.00000000049 * Math.cos(2.45936277850 + 27676.976036858 * t);
-        Y2 += 0.00000000051 * Math.cos(4.08715478685 + 51116.4243529592 * t);
-        Y2 += 0.00000000045 * Math.cos(2.48850621100 + 26202.34243025941 * t);
-        Y2 += 0.00000000045 * Math.cos(0.02918998649 + 25973.46385288896 * t);
-        Y2 += 0.00000000045 * Math.cos(4.38367721547 + 53235.18821333759 * t);
-        Y2 += 0.00000000040 * Math.cos(1.42851453913 + 26301.2022370122 * t);
-        Y2 += 0.00000000052 * Math.cos(0.46087243356 + 955.5997416086 * t);
-        Y2 += 0.00000000039 * Math.cos(1.10147216023 + 25874.6040461362 * t);
-        Y2 += 0.00000000039 * Math.cos(4.08449976646 + 40853.142184844 * t);
-        Y2 += 0.00000000037 * Math.cos(0.24047079066 + 2118.7638603784 * t);
-        Y2 += 0.00000000046 * Math.cos(2.36226611879 + 29530.4780865396 * t);
-        Y2 += 0.00000000039 * Math.cos(2.71510286457 + 53131.406024757 * t);
-        Y2 += 0.00000000034 * Math.cos(5.34770943540 + 56727.7597802072 * t);
-        Y2 += 0.00000000040 * Math.cos(5.72538622894 + 129330.13715577759 * t);
-        Y2 += 0.00000000033 * Math.cos(1.89317335643 + 313054.83769889036 * t);
-        Y2 += 0.00000000032 * Math.cos(5.81428165747 + 6770.7106012456 * t);
-        Y2 += 0.00000000038 * Math.cos(3.26185757209 + 2218.7571041868 * t);
-        Y2 += 0.00000000030 * Math.cos(4.05437615641 + 43071.8992890308 * t);
-        Y2 += 0.00000000033 * Math.cos(2.92004182064 + 49957.0491789616 * t);
-        Y2 += 0.00000000036 * Math.cos(5.40556752348 + 529.6909650946 * t);
-        Y2 += 0.00000000025 * Math.cos(0.09705599716 + 98690.28051714458 * t);
-        Y2 += 0.00000000030 * Math.cos(0.44155155116 + 47623.8527860896 * t);
-        Y2 += 0.00000000023 * Math.cos(4.22922851538 + 16983.9961474566 * t);
-        Y2 += 0.00000000024 * Math.cos(3.94664051894 + 78793.40038981718 * t);
-        Y2 += 0.00000000024 * Math.cos(1.99165646805 + 77308.10968311399 * t);
-        Y2 += 0.00000000028 * Math.cos(5.72914844642 + 54394.56338733519 * t);
-        Y2 += 0.00000000022 * Math.cos(0.35963548929 + 45405.0956819028 * t);
-        Y2 += 0.00000000024 * Math.cos(5.32858635997 + 18849.2275499742 * t);
-        Y2 += 0.00000000018 * Math.cos(0.17787797764 + 52156.1365222486 * t);
-        Y2 += 0.00000000018 * Math.cos(1.16105857213 + 79323.09135491178 * t);
-        Y2 += 0.00000000022 * Math.cos(1.11933727537 + 13655.8604911764 * t);
-        Y2 += 0.00000000018 * Math.cos(0.83099200037 + 12566.1516999828 * t);
-        Y2 += 0.00000000018 * Math.cos(4.54633317296 + 52389.1053785864 * t);
-        Y2 += 0.00000000018 * Math.cos(5.02672541458 + 51535.90899683439 * t);
-        Y2 += 0.00000000018 * Math.cos(1.65595798708 + 51646.11531805379 * t);
-        Y2 += 0.00000000016 * Math.cos(0.09513192311 + 23754.70674870219 * t);
-        Y2 += 0.00000000016 * Math.cos(1.99438250231 + 58946.51688439399 * t);
-        Y2 += 0.00000000015 * Math.cos(3.83660842048 + 38654.05484155699 * t);
-        Y2 += 0.00000000016 * Math.cos(2.81765573502 + 213.299095438 * t);
-        Y2 += 0.00000000015 * Math.cos(2.03096195084 + 5661.3320491522 * t);
-        Y2 += 0.00000000015 * Math.cos(0.22694790547 + 48733.23133818299 * t);
-        Y2 += 0.00000000015 * Math.cos(5.36500920222 + 426.598190876 * t);
-        Y2 += 0.00000000016 * Math.cos(2.08963950452 + 11322.6640983044 * t);
-        Y2 += 0.00000000015 * Math.cos(2.10902101239 + 82815.66292178139 * t);
-        Y2 += 0.00000000014 * Math.cos(2.78613814970 + 853.196381752 * t);
-        Y2 += 0.00000000014 * Math.cos(3.52261302721 + 52179.6876185064 * t);
-        Y2 += 0.00000000015 * Math.cos(2.61226501657 + 79373.08797681599 * t);
-        Y2 += 0.00000000014 * Math.cos(0.87917385569 + 66941.04532641819 * t);
-        Y2 += 0.00000000014 * Math.cos(5.41787560745 + 53764.8791784322 * t);
-        Y2 += 0.00000000014 * Math.cos(2.07377604640 + 110012.94461544899 * t);
-        Y2 += 0.00000000014 * Math.cos(1.61288448694 + 36301.18868778519 * t);
-        Y2 += 0.00000000013 * Math.cos(2.42169327872 + 28421.0995344462 * t);
-        Y2 += 0.00000000013 * Math.cos(5.77387844338 + 76674.63652943878 * t);
-        Y2 += 0.00000000015 * Math.cos(5.36990490192 + 52195.47604404819 * t);
-        Y2 += 0.00000000016 * Math.cos(3.41100376315 + 33326.5787331742 * t);
-        Y2 += 0.00000000013 * Math.cos(5.40167186911 + 83925.04147387479 * t);
-        Y2 += 0.00000000016 * Math.cos(5.39991081548 + 55618.3812281138 * t);
-        Y2 += 0.00000000013 * Math.cos(2.49786568147 + 155418.04029735178 * t);
-        Y2 += 0.00000000012 * Math.cos(2.28713351757 + 50057.04242277 * t);
-        Y2 += 0.00000000013 * Math.cos(2.01707000795 + 52171.9249477904 * t);
-        Y2 += 0.00000000014 * Math.cos(0.57769767887 + 26727.8004278882 * t);
-        Y2 += 0.00000000011 * Math.cos(4.62449766576 + 62389.09182935939 * t);
-        Y2 += 0.00000000010 * Math.cos(5.55718728874 + 52290.24557183361 * t);
-        Y2 += 0.00000000012 * Math.cos(1.55438318082 + 26514.5013324502 * t);
-        Y2 += 0.00000000009 * Math.cos(5.97731076392 + 76044.9523205358 * t);
-        Y2 += 0.00000000009 * Math.cos(1.52608730668 + 35191.8101356918 * t);
-        Y2 += 0.00000000010 * Math.cos(3.15434437042 + 124778.18365871879 * t);
-        Y2 += 0.00000000009 * Math.cos(4.94399763372 + 339142.74084046457 * t);
-        Y2 += 0.00000000009 * Math.cos(3.23297814751 + 78244.0396638228 * t);
-        Y2 += 0.00000000011 * Math.cos(1.37012220080 + 38519.945791972 * t);
-        Y2 += 0.00000000009 * Math.cos(1.65178893035 + 39609.6545831656 * t);
-        Y2 += 0.00000000008 * Math.cos(3.08406781779 + 52061.36699446317 * t);
-        Y2 += 0.00000000010 * Math.cos(1.78007560053 + 25028.521211385 * t);
-        Y2 += 0.00000000009 * Math.cos(1.99370375699 + 12432.0426503978 * t);
-        Y2 += 0.00000000009 * Math.cos(0.64203429747 + 104881.30353139139 * t);
-        Y2 += 0.00000000008 * Math.cos(2.46909335815 + 2333.196392872 * t);
-        Y2 += 0.00000000008 * Math.cos(5.09160593281 + 136100.84775702319 * t);
-        Y2 += 0.00000000008 * Math.cos(4.95977806392 + 103396.01282468818 * t);
-        Y2 += 0.00000000008 * Math.cos(3.17511222783 + 28206.6670019526 * t);
-        Y2 += 0.00000000008 * Math.cos(5.30797759703 + 79219.30916633119 * t);
-        Y2 += 0.00000000009 * Math.cos(4.93174852989 + 7994.5284420242 * t);
-        Y2 += 0.00000000009 * Math.cos(4.69826318545 + 63498.47038145279 * t);
-        Y2 += 0.00000000009 * Math.cos(1.06973985086 + 15874.6175953632 * t);
-        Y2 += 0.00000000007 * Math.cos(3.14954677340 + 52168.69273614759 * t);
-        Y2 += 0.00000000007 * Math.cos(0.55559122998 + 64741.95798313119 * t);
-        Y2 += 0.00000000007 * Math.cos(0.76613463585 + 69159.80243060499 * t);
-        Y2 += 0.00000000007 * Math.cos(0.31047071847 + 78267.59076008058 * t);
-        Y2 += 0.00000000009 * Math.cos(1.78142262939 + 44937.1306915484 * t);
-        Y2 += 0.00000000007 * Math.cos(3.66488715060 + 18207.81398823521 * t);
-        Y2 += 0.00000000008 * Math.cos(2.43253154916 + 52182.9198301492 * t);
-        Y2 += 0.00000000006 * Math.cos(4.20186212149 + 105410.99449648599 * t);
-        Y2 += 0.00000000006 * Math.cos(1.43352275284 + 88476.99497093359 * t);
-        Y2 += 0.00000000007 * Math.cos(4.55836386142 + 51962.5071877104 * t);
-        Y2 += 0.00000000006 * Math.cos(0.82384473987 + 129380.13377768178 * t);
-        Y2 += 0.00000000006 * Math.cos(4.69107663948 + 52602.4044740244 * t);
-        Y2 += 0.00000000006 * Math.cos(0.95309123619 + 68050.42387851159 * t);
-        Y2 += 0.00000000007 * Math.cos(3.94256114885 + 7238.67559160 * t);
-        Y2 += 0.00000000005 * Math.cos(4.22538197267 + 57837.1383323006 * t);
-        Y2 += 0.00000000006 * Math.cos(1.35964226786 + 78477.00852016058 * t);
-        Y2 += 0.00000000005 * Math.cos(3.27748453006 + 74821.13447975718 * t);
-        Y2 += 0.00000000005 * Math.cos(4.79928508484 + 13521.7514415914 * t);
-        Y2 += 0.00000000007 * Math.cos(2.15262985645 + 78283.37918562238 * t);
-        Y2 += 0.00000000007 * Math.cos(3.41483534504 + 71492.99882347698 * t);
-        Y2 += 0.00000000005 * Math.cos(2.00252804083 + 25661.3049506982 * t);
-        Y2 += 0.00000000005 * Math.cos(2.30423096631 + 105460.99111839019 * t);
-        Y2 += 0.00000000005 * Math.cos(3.95725794199 + 94138.32702008578 * t);
-        Y2 += 0.00000000005 * Math.cos(6.01203009176 + 51322.60990139639 * t);
-        Y2 += 0.00000000006 * Math.cos(4.90832237060 + 77734.01845962799 * t);
-        Y2 += 0.00000000006 * Math.cos(5.09323451879 + 78259.82808936459 * t);
-        Y2 += 0.00000000005 * Math.cos(5.15754800675 + 108903.56606335558 * t);
-        Y2 += 0.00000000005 * Math.cos(2.16962219454 + 81706.28436968799 * t);
-        Y2 += 0.00000000005 * Math.cos(6.03160576908 + 78256.59587772179 * t);
-        Y2 += 0.00000000006 * Math.cos(3.87273262792 + 103292.23063610759 * t);
-        Y2 += 0.00000000004 * Math.cos(0.83457275877 + 32370.9789915656 * t);
-        Y2 += 0.00000000004 * Math.cos(5.01761361986 + 33967.99229491319 * t);
-        Y2 += 0.00000000004 * Math.cos(2.55613520919 + 29416.03879785439 * t);
-        Y2 += 0.00000000004 * Math.cos(6.24908247561 + 22759.76748529401 * t);
-        Y2 += 0.00000000005 * Math.cos(3.91889103336 + 93028.94846799239 * t);
-        Y2 += 0.00000000004 * Math.cos(5.09314307859 + 76144.94556434419 * t);
-        Y2 += 0.00000000004 * Math.cos(5.54718850207 + 181505.94343892598 * t);
-        Y2 += 0.00000000004 * Math.cos(3.66591555169 + 51749.20809227239 * t);
-        Y2 += 0.00000000004 * Math.cos(5.43535832308 + 77204.32749453338 * t);
-        Y2 += 0.00000000005 * Math.cos(6.24450165084 + 59414.4818747484 * t);
-        Y2 += 0.00000000005 * Math.cos(5.47240472132 + 78270.82297172339 * t);
-        Y2 += 0.00000000004 * Math.cos(3.89916025123 + 44181.27784112419 * t);
-        Y2 += 0.00000000004 * Math.cos(6.22902554255 + 24498.8302462904 * t);
-        Y2 += 0.00000000004 * Math.cos(3.92116783578 + 155468.03691925599 * t);
-        Y2 += 0.00000000004 * Math.cos(5.48712842142 + 54509.0026760204 * t);
-        Y2 += 0.00000000004 * Math.cos(4.27463598779 + 18093.37469954999 * t);
-        Y2 += 0.00000000003 * Math.cos(1.85244465361 + 162188.75089859738 * t);
-        Y2 += 0.00000000003 * Math.cos(4.77836422656 + 41962.5207369374 * t);
-        Y2 += 0.00000000004 * Math.cos(2.12335410594 + 79852.78232000639 * t);
-        Y2 += 0.00000000004 * Math.cos(4.17801375091 + 39743.7636327506 * t);
-        Y2 += 0.00000000004 * Math.cos(5.70840309627 + 7880.08915333899 * t);
-        Y2 += 0.00000000003 * Math.cos(0.39806541191 + 99799.65906923798 * t);
-        Y2 += 0.00000000004 * Math.cos(2.38564459509 + 80482.46652890938 * t);
-        Y2 += 0.00000000003 * Math.cos(6.27556693980 + 104331.94280539699 * t);
-        Y2 += 0.00000000003 * Math.cos(1.35069678358 + 19804.8272915828 * t);
-        Y2 += 0.00000000003 * Math.cos(1.81855841579 + 77623.81213840858 * t);
-        Y2 += 0.00000000004 * Math.cos(2.52850834706 + 27311.72098235281 * t);
-        Y2 += 0.00000000004 * Math.cos(6.27670933774 + 24864.08530079559 * t);
-        Y2 += 0.00000000003 * Math.cos(0.70573582046 + 120226.23016165999 * t);
-        Y2 += 0.00000000003 * Math.cos(3.32514993267 + 125887.56221081219 * t);
-        Y2 += 0.00000000003 * Math.cos(3.75830218405 + 58458.88213313979 * t);
-        Y2 += 0.00000000003 * Math.cos(2.74763513151 + 102132.85546210999 * t);
-        Y2 += 0.00000000003 * Math.cos(1.67864067330 + 129483.91596626239 * t);
-        Y2 += 0.00000000003 * Math.cos(6.20277750460 + 150866.08680029298 * t);
-        Y2 += 0.00000000004 * Math.cos(1.26893874193 + 103821.92160120218 * t);
-        Y2 += 0.00000000003 * Math.cos(3.56406791266 + 90829.86112470538 * t);
-        Y2 += 0.00000000003 * Math.cos(3.63272158132 + 130969.20667296558 * t);
-        Y2 += 0.00000000002 * Math.cos(3.23610336539 + 3328.13565628019 * t);
-        Y2 += 0.00000000003 * Math.cos(5.91047728379 + 26941.0995233262 * t);
-        Y2 += 0.00000000002 * Math.cos(0.95061008775 + 2648.454825473 * t);
-        Y2 += 0.00000000003 * Math.cos(4.65184843181 + 71025.03383312259 * t);
-        Y2 += 0.00000000002 * Math.cos(4.48148929675 + 114564.89811250778 * t);
-        Y2 += 0.00000000002 * Math.cos(2.32776941660 + 78378.14871340781 * t);
-        Y2 += 0.00000000003 * Math.cos(3.35170366833 + 104355.49390165479 * t);
-        Y2 += 0.00000000002 * Math.cos(5.14923443722 + 10213.285546211 * t);
-        Y2 += 0.00000000003 * Math.cos(4.22691038602 + 64607.84893354619 * t);
-        Y2 += 0.00000000002 * Math.cos(1.71650975828 + 365230.64398203876 * t);
-        Y2 += 0.00000000003 * Math.cos(3.67194915630 + 52815.7035694624 * t);
-        Y2 += 0.00000000002 * Math.cos(1.27345348451 + 77197.21394753258 * t);
-        Y2 += 0.00000000002 * Math.cos(1.48417100051 + 78690.30761559859 * t);
-        Y2 += 0.00000000002 * Math.cos(2.36187956438 + 6283.0758499914 * t);
-        Y2 += 0.00000000002 * Math.cos(6.12303826586 + 26080.78959457339 * t);
-        Y2 += 0.00000000002 * Math.cos(5.19120708421 + 104371.28232719658 * t);
-        Y2 += 0.00000000002 * Math.cos(0.78853413649 + 77211.44104153418 * t);
-        Y2 += 0.00000000002 * Math.cos(2.72670303771 + 104344.49901929598 * t);
-        Y2 += 0.00000000002 * Math.cos(4.67739374144 + 73711.75592766379 * t);
-        Y2 += 0.00000000002 * Math.cos(1.53237872748 + 25021.4076643842 * t);
-        Y2 += 0.00000000002 * Math.cos(2.13231085358 + 78050.41032928458 * t);
-        Y2 += 0.00000000002 * Math.cos(0.91172072873 + 26724.8994135984 * t);
-        Y2 += 0.00000000002 * Math.cos(1.61031164889 + 25450.90686955 * t);
-        Y2 += 0.00000000002 * Math.cos(0.18515603002 + 97580.90196505119 * t);
-        Y2 += 0.00000000002 * Math.cos(1.24467307746 + 25035.6347583858 * t);
-        Y2 += 0.00000000002 * Math.cos(4.54718046119 + 61279.713277266 * t);
-        Y2 += 0.00000000002 * Math.cos(0.99883736208 + 131498.89763806018 * t);
-        Y2 += 0.00000000002 * Math.cos(6.14579824758 + 78149.27013603736 * t);
-        Y2 += 0.00000000002 * Math.cos(5.22194829628 + 107794.18751126219 * t);
-        Y2 += 0.00000000002 * Math.cos(4.44568632865 + 104564.91166173479 * t);
-        Y2 += 0.00000000002 * Math.cos(0.43885889697 + 44295.7171298094 * t);
-        Y2 += 0.00000000002 * Math.cos(2.21775926430 + 104358.72611329758 * t);
-        Y2 += 0.00000000002 * Math.cos(6.01244126070 + 26095.016688575 * t);
-        Y2 += 0.00000000002 * Math.cos(1.97247119445 + 25448.00585526019 * t);
-        Y2 += 0.00000000002 * Math.cos(1.84425072089 + 104347.73123093879 * t);
-        Y2 += 0.00000000002 * Math.cos(1.92978783375 + 134991.46920492979 * t);
-        Y2 += 0.00000000002 * Math.cos(6.15762075171 + 54294.57014352679 * t);
-        Y2 += 0.00000000001 * Math.cos(0.00646259477 + 151975.46535238638 * t);
-        Y2 += 0.00000000002 * Math.cos(4.28651900923 + 27154.3986187642 * t);
-        Y2 += 0.00000000001 * Math.cos(4.96493278918 + 131548.89425996438 * t);
-        Y2 += 0.00000000002 * Math.cos(4.03299923868 + 129909.82474277639 * t);
-        Y2 += 0.00000000001 * Math.cos(4.85411171080 + 117873.36400788819 * t);
-        Y2 += 0.00000000001 * Math.cos(0.70037814448 + 181555.94006083018 * t);
-        Y2 += 0.00000000001 * Math.cos(4.76887553825 + 27140.17152476259 * t);
-        Y2 += 0.00000000001 * Math.cos(2.20665692734 + 71980.63357473118 * t);
-        Y2 += 0.00000000001 * Math.cos(0.32376121011 + 84546.78527471398 * t);
-        Y2 += 0.00000000001 * Math.cos(2.02269954361 + 105307.21230790539 * t);
-        Y2 += 0.00000000001 * Math.cos(5.65215614938 + 55503.94193942859 * t);
-        Y2 += 0.00000000001 * Math.cos(4.32724826212 + 103285.11708910679 * t);
-        Y2 += 0.00000000001 * Math.cos(5.29833008252 + 98068.53671630539 * t);
-        Y2 += 0.00000000001 * Math.cos(0.18572568831 + 49842.60989027639 * t);
-        Y2 += 0.00000000001 * Math.cos(4.90122380403 + 188276.65404017158 * t);
-        Y2 += 0.00000000001 * Math.cos(3.76341801760 + 146314.13330323418 * t);
-        Y2 += 0.00000000001 * Math.cos(1.30916935787 + 39629.32434406539 * t);
-        Y2 += 0.00000000001 * Math.cos(1.21286301975 + 12546.481939083 * t);
-        Y2 += 0.00000000001 * Math.cos(3.39146472709 + 29428.515568274 * t);
-        Y2 += 0.00000000001 * Math.cos(5.41375295771 + 22747.2907148744 * t);
-        Y2 += 0.00000000001 * Math.cos(3.01779717813 + 48847.6706268682 * t);
-        Y2 += 0.00000000001 * Math.cos(0.59868544996 + 119116.85160956658 * t);
-        Y2 += 0.00000000001 * Math.cos(3.78611740517 + 26068.2333806744 * t);
-        Y2 += 0.00000000001 * Math.cos(2.27036539747 + 65697.55772473979 * t);
-        Y2 += 0.00000000001 * Math.cos(4.83301226330 + 85034.42002596818 * t);
-        Y2 += 0.00000000001 * Math.cos(1.67985210779 + 91785.46086631398 * t);
-        Y2 += 0.00000000001 * Math.cos(0.94607737269 + 65831.6667743248 * t);
-        Y2 += 0.00000000001 * Math.cos(3.70907832809 + 25668.418497699 * t);
-        Y2 += 0.00000000001 * Math.cos(5.11382979303 + 105940.68546158058 * t);
-        Y2 += 0.00000000001 * Math.cos(2.55240899630 + 23969.1392811958 * t);
-        Y2 += 0.00000000001 * Math.cos(5.58196282531 + 53399.624123927 * t);
-        Y2 += 0.00000000001 * Math.cos(5.05138921018 + 86143.79857806159 * t);
-        Y2 += 0.00000000001 * Math.cos(2.25556473621 + 80596.9058175946 * t);
-        Y2 += 0.00000000001 * Math.cos(0.21311360055 + 116917.76426627958 * t);
-        Y2 += 0.00000000001 * Math.cos(1.56663404561 + 49527.35145767539 * t);
-        Y2 += 0.00000000001 * Math.cos(0.86126131153 + 26091.7844769322 * t);
-        Y2 += 0.00000000001 * Math.cos(1.85701383103 + 102762.53967101299 * t);
-        Y2 += 0.00000000001 * Math.cos(5.22154224565 + 42153.969003049 * t);
-        Y2 += 0.00000000001 * Math.cos(3.58367543915 + 10021.8372800994 * t);
-        Y2 += 0.00000000001 * Math.cos(2.09053854156 + 52643.7712735028 * t);
-        Y2 += 0.00000000001 * Math.cos(5.79544037209 + 106570.36967048359 * t);
-        Y2 += 0.00000000001 * Math.cos(1.91470461401 + 60055.89543648739 * t);
-        Y2 += 0.00000000001 * Math.cos(2.85680513265 + 77410.51304297059 * t);
-        Y2 += 0.00000000001 * Math.cos(3.76946194078 + 35472.7441496494 * t);
-        Y2 += 0.00000000001 * Math.cos(5.03575574402 + 16703.062133499 * t);
-        Y2 += 0.00000000001 * Math.cos(4.78643120649 + 51109.31080595839 * t);
-        Y2 += 0.00000000001 * Math.cos(0.57669802141 + 95247.70557217918 * t);
-        Y2 += 0.00000000001 * Math.cos(2.90180569851 + 25234.70675982219 * t);
-        Y2 += 0.00000000001 * Math.cos(1.58201404622 + 90695.75207512038 * t);
-        Y2 += 0.00000000001 * Math.cos(2.68747867545 + 26107.57290247399 * t);
-        Y2 += 0.00000000001 * Math.cos(4.30211746075 + 51123.53789995999 * t);
-        Y2 += 0.00000000001 * Math.cos(5.61783600207 + 26084.0218062162 * t);
-        Y2 += 0.00000000001 * Math.cos(3.85421340571 + 103299.34418310839 * t);
-        Y2 += 0.00000000000 * Math.cos(1.67828847641 + 111122.32316754239 * t);
-        Y2 += 0.00000000000 * Math.cos(4.32269517066 + 116783.65521669458 * t);
-        Y2 += 0.00000000000 * Math.cos(1.57680890241 + 102232.84870591838 * t);
-        Y2 += 0.00000000000 * Math.cos(3.86212056666 + 77829.99768684579 * t);
-        Y2 += 0.00000000000 * Math.cos(1.07901792462 + 53242.3017603384 * t);
-        Y2 += 0.00000000000 * Math.cos(5.66444613327 + 45892.73043315699 * t);
-        Y2 += 0.00000000000 * Math.cos(2.20085558024 + 85502.38501632259 * t);
-        Y2 += 0.00000000000 * Math.cos(0.98299558571 + 52329.58509363319 * t);
-        Y2 += 0.00000000000 * Math.cos(1.32972554910 + 97112.93697469679 * t);
-        Y2 += 0.00000000000 * Math.cos(1.12592342011 + 70269.18098269838 * t);
-        Y2 += 0.00000000000 * Math.cos(3.04273231467 + 130419.8459469712 * t);
-        Y2 += 0.00000000000 * Math.cos(2.31692106685 + 207593.84658050018 * t);
-        Y2 += 0.00000000000 * Math.cos(0.47743492160 + 78903.60671103658 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 59 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00000018231 * Math.cos(4.35141183918 + 78263.70942472259 * t);
-        Y3 += 0.00000017840 * Math.cos(1.45419068020 + 52175.8062831484 * t);
-        Y3 += 0.00000015722;
-        Y3 += 0.00000010723 * Math.cos(1.09353490107 + 104351.61256629678 * t);
-        Y3 += 0.00000008835 * Math.cos(4.62739214222 + 26087.9031415742 * t);
-        Y3 += 0.00000004973 * Math.cos(4.13805648872 + 130439.51570787099 * t);
-        Y3 += 0.00000002032 * Math.cos(0.90409186617 + 156527.41884944518 * t);
-        Y3 += 0.00000000768 * Math.cos(3.95481408065 + 182615.32199101939 * t);
-        Y3 += 0.00000000275 * Math.cos(0.72281686312 + 208703.22513259358 * t);
-        Y3 += 0.00000000095 * Math.cos(3.77357857159 + 234791.12827416777 * t);
-        Y3 += 0.00000000032 * Math.cos(0.53816590044 + 260879.03141574195 * t);
-        Y3 += 0.00000000023 * Math.cos(1.30039835479 + 51066.427731055 * t);
-        Y3 += 0.00000000013 * Math.cos(4.35126170071 + 77154.33087262919 * t);
-        Y3 += 0.00000000011 * Math.cos(4.27058573849 + 53285.1848352418 * t);
-        Y3 += 0.00000000010 * Math.cos(3.58474125179 + 286966.93455731616 * t);
-        Y3 += 0.00000000006 * Math.cos(1.11939414362 + 103242.23401420339 * t);
-        Y3 += 0.00000000004 * Math.cos(1.06911580934 + 79373.08797681599 * t);
-        Y3 += 0.00000000003 * Math.cos(0.35802564284 + 313054.83769889036 * t);
-        Y3 += 0.00000000003 * Math.cos(4.97694448000 + 24978.5245894808 * t);
-        Y3 += 0.00000000002 * Math.cos(4.16958554828 + 129330.13715577759 * t);
-        Y3 += 0.00000000002 * Math.cos(4.98034080151 + 46514.4742339962 * t);
-        Y3 += 0.00000000002 * Math.cos(0.75178980879 + 27197.2816936676 * t);
-        Y3 += 0.00000000002 * Math.cos(1.79735462475 + 72602.37737557039 * t);
-        Y3 += 0.00000000002 * Math.cos(3.97020440960 + 51220.20654153979 * t);
-        Y3 += 0.00000000001 * Math.cos(5.79259488047 + 52705.49724824299 * t);
-        Y3 += 0.00000000001 * Math.cos(5.78106278480 + 25028.521211385 * t);
-        Y3 += 0.00000000001 * Math.cos(4.81235249974 + 98690.28051714458 * t);
-        Y3 += 0.00000000001 * Math.cos(0.58325393673 + 77308.10968311399 * t);
-        Y3 += 0.00000000001 * Math.cos(6.25607623811 + 27147.28507176339 * t);
-        Y3 += 0.00000000001 * Math.cos(1.35639516489 + 49957.0491789616 * t);
-        Y3 += 0.00000000001 * Math.cos(1.27930276545 + 53131.406024757 * t);
-        Y3 += 0.00000000001 * Math.cos(2.53029769574 + 40853.142184844 * t);
-        Y3 += 0.00000000001 * Math.cos(3.40999215656 + 339142.74084046457 * t);
-        Y3 += 0.00000000001 * Math.cos(4.14914204525 + 105460.99111839019 * t);
-        Y3 += 0.00000000001 * Math.cos(0.94394345298 + 155418.04029735178 * t);
-        Y3 += 0.00000000001 * Math.cos(2.78477981756 + 53235.18821333759 * t);
-        Y3 += 0.00000000001 * Math.cos(2.44143812400 + 78793.40038981718 * t);
-        Y3 += 0.00000000001 * Math.cos(5.72990048899 + 79323.09135491178 * t);
-        Y3 += 0.00000000001 * Math.cos(3.75969757986 + 56727.7597802072 * t);
-        Y3 += 0.00000000000 * Math.cos(6.02219408506 + 51646.11531805379 * t);
-        Y3 += 0.00000000000 * Math.cos(0.98563675822 + 27676.976036858 * t);
-        Y3 += 0.00000000001 * Math.cos(4.18035870626 + 54394.56338733519 * t);
-        Y3 += 0.00000000000 * Math.cos(4.63820647009 + 27043.5028831828 * t);
-        Y3 += 0.00000000000 * Math.cos(4.88088145588 + 24498.8302462904 * t);
-        Y3 += 0.00000000000 * Math.cos(5.09384017469 + 45405.0956819028 * t);
-        Y3 += 0.00000000001 * Math.cos(0.83186420507 + 1109.3785520934 * t);
-        Y3 += 0.00000000000 * Math.cos(0.55268160318 + 82815.66292178139 * t);
-        Y3 += 0.00000000000 * Math.cos(4.06242566095 + 30639.856638633 * t);
-        Y3 += 0.00000000000 * Math.cos(2.29306072785 + 20426.571092422 * t);
-        Y3 += 0.00000000000 * Math.cos(2.83724469642 + 26617.5941066688 * t);
-        Y3 += 0.00000000000 * Math.cos(4.35824625534 + 76674.63652943878 * t);
-        Y3 += 0.00000000000 * Math.cos(3.83033321377 + 5661.3320491522 * t);
-        Y3 += 0.00000000000 * Math.cos(0.32449010894 + 213.299095438 * t);
-        Y3 += 0.00000000000 * Math.cos(2.73204881726 + 16983.9961474566 * t);
-        Y3 += 0.00000000000 * Math.cos(0.94024466666 + 25132.3033999656 * t);
-        Y3 += 0.00000000000 * Math.cos(5.59288614720 + 66941.04532641819 * t);
-        Y3 += 0.00000000000 * Math.cos(6.21244642317 + 14765.2390432698 * t);
-        Y3 += 0.00000000000 * Math.cos(5.04079948823 + 23869.1460373874 * t);
-        Y3 += 0.00000000000 * Math.cos(4.42123921226 + 76044.9523205358 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 15 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 -= 0.00000000448;
-        Y4 += 0.00000000299 * Math.cos(2.91725329579 + 78263.70942472259 * t);
-        Y4 += 0.00000000241 * Math.cos(5.88233684971 + 104351.61256629678 * t);
-        Y4 += 0.00000000234 * Math.cos(0.11142561910 + 52175.8062831484 * t);
-        Y4 += 0.00000000145 * Math.cos(2.62003969568 + 130439.51570787099 * t);
-        Y4 += 0.00000000073 * Math.cos(5.65860776108 + 156527.41884944518 * t);
-        Y4 += 0.00000000056 * Math.cos(3.19455986519 + 26087.9031415742 * t);
-        Y4 += 0.00000000033 * Math.cos(2.42044304883 + 182615.32199101939 * t);
-        Y4 += 0.00000000014 * Math.cos(5.46300124767 + 208703.22513259358 * t);
-        Y4 += 0.00000000005 * Math.cos(2.23239849027 + 234791.12827416777 * t);
-        Y4 += 0.00000000002 * Math.cos(5.28061358621 + 260879.03141574195 * t);
-        Y4 += 0.00000000001 * Math.cos(2.04140460514 + 286966.93455731616 * t);
-        Y4 += 0.00000000000 * Math.cos(6.11024431934 + 51066.427731055 * t);
-        Y4 += 0.00000000000 * Math.cos(2.77045335769 + 77154.33087262919 * t);
-        Y4 += 0.00000000000 * Math.cos(2.64502722578 + 53285.1848352418 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 10 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000005 * Math.cos(4.36366479961 + 104351.61256629678 * t);
-        Y5 += 0.00000000004 * Math.cos(1.29818204726 + 78263.70942472259 * t);
-        Y5 += 0.00000000003 * Math.cos(1.10210039292 + 130439.51570787099 * t);
-        Y5 += 0.00000000003 * Math.cos(2.32804418834 + 26087.9031415742 * t);
-        Y5 += 0.00000000004;
-        Y5 += 0.00000000003 * Math.cos(3.92465699188 + 52175.8062831484 * t);
-        Y5 += 0.00000000002 * Math.cos(4.13335263836 + 156527.41884944518 * t);
-        Y5 += 0.00000000001 * Math.cos(0.88060083637 + 182615.32199101939 * t);
-        Y5 += 0.00000000001 * Math.cos(3.91898663672 + 208703.22513259358 * t);
-        Y5 += 0.00000000000 * Math.cos(0.67280389009 + 234791.12827416777 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 598 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.04607665326 * Math.cos(1.99295081967 + 26087.9031415742 * t);
-        Z0 -= 0.00708734365;
-        Z0 += 0.00469171617 * Math.cos(5.04215742764 + 52175.8062831484 * t);
-        Z0 += 0.00071626395 * Math.cos(1.80894256071 + 78263.70942472259 * t);
-        Z0 += 0.00012957446 * Math.cos(4.85922032010 + 104351.61256629678 * t);
-        Z0 += 0.00002575002 * Math.cos(1.62646731545 + 130439.51570787099 * t);
-        Z0 += 0.00000543259 * Math.cos(4.67698860167 + 156527.41884944518 * t);
-        Z0 += 0.00000119462 * Math.cos(1.44437994097 + 182615.32199101939 * t);
-        Z0 += 0.00000079477 * Math.cos(4.94442849343 + 27197.2816936676 * t);
-        Z0 += 0.00000082635 * Math.cos(2.03127961938 + 24978.5245894808 * t);
-        Z0 += 0.00000044712 * Math.cos(0.52659463739 + 1059.3819301892 * t);
-        Z0 += 0.00000043131 * Math.cos(5.66922412963 + 20426.571092422 * t);
-        Z0 += 0.00000034677 * Math.cos(2.36736170874 + 25028.521211385 * t);
-        Z0 += 0.00000032337 * Math.cos(1.29099631099 + 31749.2351907264 * t);
-        Z0 += 0.00000027465 * Math.cos(3.57680072404 + 5661.3320491522 * t);
-        Z0 += 0.00000027081 * Math.cos(4.49499356963 + 208703.22513259358 * t);
-        Z0 += 0.00000020978 * Math.cos(4.46131555233 + 4551.9534970588 * t);
-        Z0 += 0.00000020602 * Math.cos(1.12768557199 + 1109.3785520934 * t);
-        Z0 += 0.00000020252 * Math.cos(0.11722157720 + 51116.4243529592 * t);
-        Z0 += 0.00000023561 * Math.cos(1.82361021215 + 53285.1848352418 * t);
-        Z0 += 0.00000014150 * Math.cos(4.42485698284 + 57837.1383323006 * t);
-        Z0 += 0.00000016632 * Math.cos(5.09118864825 + 51066.427731055 * t);
-        Z0 += 0.00000011609 * Math.cos(3.48812792468 + 21535.9496445154 * t);
-        Z0 += 0.00000009897 * Math.cos(2.80940292918 + 27043.5028831828 * t);
-        Z0 += 0.00000008380 * Math.cos(2.46820093103 + 46514.4742339962 * t);
-        Z0 += 0.00000007950 * Math.cos(0.44767912341 + 10213.285546211 * t);
-        Z0 += 0.00000009234 * Math.cos(3.80445817621 + 529.6909650946 * t);
-        Z0 += 0.00000007834 * Math.cos(4.08006285427 + 25132.3033999656 * t);
-        Z0 += 0.00000007169 * Math.cos(2.43861625280 + 47623.8527860896 * t);
-        Z0 += 0.00000006283 * Math.cos(1.26244592145 + 234791.12827416777 * t);
-        Z0 += 0.00000006189 * Math.cos(3.24598311063 + 77204.32749453338 * t);
-        Z0 += 0.00000006312 * Math.cos(3.60156222051 + 27147.28507176339 * t);
-        Z0 += 0.00000005874 * Math.cos(3.18517530495 + 14765.2390432698 * t);
-        Z0 += 0.00000005464 * Math.cos(0.18067146403 + 13521.7514415914 * t);
-        Z0 += 0.00000005844 * Math.cos(4.88684915394 + 79373.08797681599 * t);
-        Z0 += 0.00000005207 * Math.cos(1.04360609206 + 426.598190876 * t);
-        Z0 += 0.00000005084 * Math.cos(2.88826076001 + 12566.1516999828 * t);
-        Z0 += 0.00000004862 * Math.cos(1.05211425705 + 1589.0728952838 * t);
-        Z0 += 0.00000005778 * Math.cos(4.74518603718 + 30639.856638633 * t);
-        Z0 += 0.00000004470 * Math.cos(5.94243776120 + 11322.6640983044 * t);
-        Z0 += 0.00000004084 * Math.cos(6.10730721947 + 41962.5207369374 * t);
-        Z0 += 0.00000003921 * Math.cos(1.19592374632 + 83925.04147387479 * t);
-        Z0 += 0.00000003933 * Math.cos(1.60795544806 + 25661.3049506982 * t);
-        Z0 += 0.00000004046 * Math.cos(3.08469176646 + 51646.11531805379 * t);
-        Z0 += 0.00000003739 * Math.cos(2.04428825509 + 15874.6175953632 * t);
-        Z0 += 0.00000003728 * Math.cos(1.74332154184 + 24498.8302462904 * t);
-        Z0 += 0.00000003797 * Math.cos(1.86233694539 + 77154.33087262919 * t);
-        Z0 += 0.00000003417 * Math.cos(4.10830949198 + 39609.6545831656 * t);
-        Z0 += 0.00000003691 * Math.cos(3.50893180252 + 37410.5672398786 * t);
-        Z0 += 0.00000002644 * Math.cos(5.60089521868 + 73711.75592766379 * t);
-        Z0 += 0.00000003230 * Math.cos(5.39015797984 + 955.5997416086 * t);
-        Z0 += 0.00000002653 * Math.cos(5.52156950287 + 26617.5941066688 * t);
-        Z0 += 0.00000002526 * Math.cos(5.49112478707 + 6283.0758499914 * t);
-        Z0 += 0.00000003017 * Math.cos(6.08863660917 + 53131.406024757 * t);
-        Z0 += 0.00000003020 * Math.cos(5.46768108443 + 25558.2121764796 * t);
-        Z0 += 0.00000002169 * Math.cos(5.85843688724 + 50586.73338786459 * t);
-        Z0 += 0.00000002217 * Math.cos(5.81930894103 + 51749.20809227239 * t);
-        Z0 += 0.00000002036 * Math.cos(2.79411907992 + 7238.67559160 * t);
-        Z0 += 0.00000001904 * Math.cos(0.02429449494 + 33326.5787331742 * t);
-        Z0 += 0.00000001841 * Math.cos(3.31987542265 + 36301.18868778519 * t);
-        Z0 += 0.00000001693 * Math.cos(0.04022611885 + 103292.23063610759 * t);
-        Z0 += 0.00000001814 * Math.cos(0.58414302882 + 63498.47038145279 * t);
-        Z0 += 0.00000001910 * Math.cos(5.54302892735 + 72602.37737557039 * t);
-        Z0 += 0.00000001560 * Math.cos(0.96215455240 + 65697.55772473979 * t);
-        Z0 += 0.00000001605 * Math.cos(0.84854708960 + 51220.20654153979 * t);
-        Z0 += 0.00000001595 * Math.cos(5.65216619091 + 26068.2333806744 * t);
-        Z0 += 0.00000001487 * Math.cos(1.66950376778 + 105460.99111839019 * t);
-        Z0 += 0.00000001595 * Math.cos(1.47238921630 + 26107.57290247399 * t);
-        Z0 += 0.00000001485 * Math.cos(4.31307667056 + 260879.03141574195 * t);
-        Z0 += 0.00000001344 * Math.cos(3.05188579262 + 68050.42387851159 * t);
-        Z0 += 0.00000001601 * Math.cos(0.69333064931 + 9103.9069941176 * t);
-        Z0 += 0.00000001224 * Math.cos(3.56543079781 + 19804.8272915828 * t);
-        Z0 += 0.00000001258 * Math.cos(2.62817126488 + 52705.49724824299 * t);
-        Z0 += 0.00000001386 * Math.cos(0.42909271065 + 53235.18821333759 * t);
-        Z0 += 0.00000001392 * Math.cos(0.41896396083 + 18849.2275499742 * t);
-        Z0 += 0.00000001104 * Math.cos(1.37365365216 + 45892.73043315699 * t);
-        Z0 += 0.00000001191 * Math.cos(5.76715631957 + 19317.1925403286 * t);
-        Z0 += 0.00000001218 * Math.cos(6.16642870453 + 77734.01845962799 * t);
-        Z0 += 0.00000000991 * Math.cos(0.77508695125 + 32858.61374281979 * t);
-        Z0 += 0.00000001039 * Math.cos(4.25003847002 + 110012.94461544899 * t);
-        Z0 += 0.00000001155 * Math.cos(1.83291524170 + 16983.9961474566 * t);
-        Z0 += 0.00000000913 * Math.cos(4.91386835375 + 103242.23401420339 * t);
-        Z0 += 0.00000001096 * Math.cos(2.77782845562 + 26091.7844769322 * t);
-        Z0 += 0.00000000843 * Math.cos(2.10283893013 + 23869.1460373874 * t);
-        Z0 += 0.00000001147 * Math.cos(1.40069226758 + 56727.7597802072 * t);
-        Z0 += 0.00000001096 * Math.cos(4.34969785012 + 26084.0218062162 * t);
-        Z0 += 0.00000000888 * Math.cos(5.96405172933 + 38654.05484155699 * t);
-        Z0 += 0.00000000798 * Math.cos(5.90979724117 + 43071.8992890308 * t);
-        Z0 += 0.00000000894 * Math.cos(6.20891949330 + 40853.142184844 * t);
-        Z0 += 0.00000000751 * Math.cos(2.38280961577 + 99799.65906923798 * t);
-        Z0 += 0.00000000858 * Math.cos(3.48194203031 + 59414.4818747484 * t);
-        Z0 += 0.00000000903 * Math.cos(4.51539427543 + 3442.5749449654 * t);
-        Z0 += 0.00000000816 * Math.cos(4.68549846425 + 28306.66024576099 * t);
-        Z0 += 0.00000000739 * Math.cos(4.03898100455 + 26514.5013324502 * t);
-        Z0 += 0.00000000874 * Math.cos(3.33462533468 + 22645.32819660879 * t);
-        Z0 += 0.00000000685 * Math.cos(2.68994541603 + 76674.63652943878 * t);
-        Z0 += 0.00000000933 * Math.cos(3.52008984237 + 6770.7106012456 * t);
-        Z0 += 0.00000000668 * Math.cos(2.67447570603 + 77837.11123384659 * t);
-        Z0 += 0.00000000688 * Math.cos(4.13735845510 + 27676.976036858 * t);
-        Z0 += 0.00000000643 * Math.cos(0.26212576857 + 639.897286314 * t);
-        Z0 += 0.00000000747 * Math.cos(2.88413728742 + 79219.30916633119 * t);
-        Z0 += 0.00000000594 * Math.cos(4.72204801083 + 29530.4780865396 * t);
-        Z0 += 0.00000000580 * Math.cos(0.49131159361 + 62389.09182935939 * t);
-        Z0 += 0.00000000560 * Math.cos(0.58980434738 + 26080.78959457339 * t);
-        Z0 += 0.00000000636 * Math.cos(5.01277329265 + 7.1135470008 * t);
-        Z0 += 0.00000000664 * Math.cos(5.40615713600 + 213.299095438 * t);
-        Z0 += 0.00000000460 * Math.cos(2.41008353609 + 25448.00585526019 * t);
-        Z0 += 0.00000000453 * Math.cos(4.02646064195 + 91785.46086631398 * t);
-        Z0 += 0.00000000441 * Math.cos(3.60120922804 + 89586.37352302698 * t);
-        Z0 += 0.00000000473 * Math.cos(3.19147656788 + 25874.6040461362 * t);
-        Z0 += 0.00000000452 * Math.cos(3.10205575226 + 129380.13377768178 * t);
-        Z0 += 0.00000000406 * Math.cos(1.57776301723 + 2118.7638603784 * t);
-        Z0 += 0.00000000495 * Math.cos(4.35094686160 + 58946.51688439399 * t);
-        Z0 += 0.00000000395 * Math.cos(0.29737033271 + 25934.1243310894 * t);
-        Z0 += 0.00000000392 * Math.cos(0.53546585935 + 26241.681952059 * t);
-        Z0 += 0.00000000382 * Math.cos(4.72731471129 + 131548.89425996438 * t);
-        Z0 += 0.00000000382 * Math.cos(4.49198737842 + 71980.63357473118 * t);
-        Z0 += 0.00000000368 * Math.cos(3.89892172772 + 77308.10968311399 * t);
-        Z0 += 0.00000000351 * Math.cos(1.04745682138 + 2218.7571041868 * t);
-        Z0 += 0.00000000356 * Math.cos(6.12309999532 + 94138.32702008578 * t);
-        Z0 += 0.00000000458 * Math.cos(2.31746139528 + 98690.28051714458 * t);
-        Z0 += 0.00000000327 * Math.cos(4.52406643775 + 52195.47604404819 * t);
-        Z0 += 0.00000000393 * Math.cos(3.09725258397 + 69159.80243060499 * t);
-        Z0 += 0.00000000310 * Math.cos(1.10653094623 + 23969.1392811958 * t);
-        Z0 += 0.00000000356 * Math.cos(1.08062840940 + 286966.93455731616 * t);
-        Z0 += 0.00000000345 * Math.cos(5.71957868514 + 78793.40038981718 * t);
-        Z0 += 0.00000000293 * Math.cos(1.74897333943 + 54394.56338733519 * t);
-        Z0 += 0.00000000275 * Math.cos(4.05372155800 + 149.5631971346 * t);
-        Z0 += 0.00000000325 * Math.cos(2.41844865673 + 52156.1365222486 * t);
-        Z0 += 0.00000000273 * Math.cos(0.34374545554 + 51535.90899683439 * t);
-        Z0 += 0.00000000256 * Math.cos(3.57544759221 + 1066.49547719 * t);
-        Z0 += 0.00000000252 * Math.cos(2.07789295059 + 48733.23133818299 * t);
-        Z0 += 0.00000000326 * Math.cos(3.49941746899 + 79323.09135491178 * t);
-        Z0 += 0.00000000327 * Math.cos(2.94651885500 + 103821.92160120218 * t);
-        Z0 += 0.00000000300 * Math.cos(3.53612598449 + 26301.2022370122 * t);
-        Z0 += 0.00000000253 * Math.cos(0.67254115542 + 1052.2683831884 * t);
-        Z0 += 0.00000000274 * Math.cos(1.02128544399 + 136100.84775702319 * t);
-        Z0 += 0.00000000227 * Math.cos(1.68291413296 + 129330.13715577759 * t);
-        Z0 += 0.00000000264 * Math.cos(4.42527687575 + 82815.66292178139 * t);
-        Z0 += 0.00000000280 * Math.cos(3.47711681992 + 44937.1306915484 * t);
-        Z0 += 0.00000000207 * Math.cos(5.26698515692 + 25938.3399444396 * t);
-        Z0 += 0.00000000233 * Math.cos(1.58956295605 + 26095.016688575 * t);
-        Z0 += 0.00000000211 * Math.cos(2.55179422569 + 45405.0956819028 * t);
-        Z0 += 0.00000000223 * Math.cos(1.11566460119 + 52171.9249477904 * t);
-        Z0 += 0.00000000195 * Math.cos(5.61180266071 + 25021.4076643842 * t);
-        Z0 += 0.00000000204 * Math.cos(5.44212122344 + 125887.56221081219 * t);
-        Z0 += 0.00000000193 * Math.cos(2.20507758963 + 25035.6347583858 * t);
-        Z0 += 0.00000000189 * Math.cos(5.78823648500 + 102762.53967101299 * t);
-        Z0 += 0.00000000213 * Math.cos(1.31985764486 + 26555.8681319286 * t);
-        Z0 += 0.00000000191 * Math.cos(0.24359410467 + 85502.38501632259 * t);
-        Z0 += 0.00000000195 * Math.cos(5.97596513107 + 105307.21230790539 * t);
-        Z0 += 0.00000000218 * Math.cos(5.85009667782 + 25619.9381512198 * t);
-        Z0 += 0.00000000181 * Math.cos(5.75215140812 + 103925.01437542078 * t);
-        Z0 += 0.00000000190 * Math.cos(3.25444605074 + 13655.8604911764 * t);
-        Z0 += 0.00000000177 * Math.cos(5.31586012519 + 50057.04242277 * t);
-        Z0 += 0.00000000207 * Math.cos(2.75433176036 + 64741.95798313119 * t);
-        Z0 += 0.00000000224 * Math.cos(5.82663546732 + 52179.6876185064 * t);
-        Z0 += 0.00000000164 * Math.cos(3.65486891804 + 76.2660712756 * t);
-        Z0 += 0.00000000166 * Math.cos(5.16708694657 + 49957.0491789616 * t);
-        Z0 += 0.00000000171 * Math.cos(1.99193197138 + 26094.53170047421 * t);
-        Z0 += 0.00000000159 * Math.cos(2.10978774324 + 32370.9789915656 * t);
-        Z0 += 0.00000000164 * Math.cos(5.82981713266 + 12432.0426503978 * t);
-        Z0 += 0.00000000155 * Math.cos(5.39879388941 + 6681.2248533996 * t);
-        Z0 += 0.00000000199 * Math.cos(3.05926705479 + 66941.04532641819 * t);
-        Z0 += 0.00000000171 * Math.cos(5.13520423660 + 26081.27458267419 * t);
-        Z0 += 0.00000000150 * Math.cos(0.90885651206 + 52389.1053785864 * t);
-        Z0 += 0.00000000184 * Math.cos(1.74487163243 + 51962.5071877104 * t);
-        Z0 += 0.00000000164 * Math.cos(0.91431121775 + 52602.4044740244 * t);
-        Z0 += 0.00000000138 * Math.cos(5.40226519416 + 26011.6370702986 * t);
-        Z0 += 0.00000000149 * Math.cos(2.17444239275 + 52168.69273614759 * t);
-        Z0 += 0.00000000184 * Math.cos(1.61828580097 + 20760.4270331914 * t);
-        Z0 += 0.00000000152 * Math.cos(0.96120452018 + 53764.8791784322 * t);
-        Z0 += 0.00000000146 * Math.cos(5.57207251195 + 58458.88213313979 * t);
-        Z0 += 0.00000000150 * Math.cos(3.58807734183 + 88476.99497093359 * t);
-        Z0 += 0.00000000124 * Math.cos(1.42633058836 + 55618.3812281138 * t);
-        Z0 += 0.00000000141 * Math.cos(1.44033578815 + 5327.4761083828 * t);
-        Z0 += 0.00000000126 * Math.cos(0.80278847447 + 117873.36400788819 * t);
-        Z0 += 0.00000000118 * Math.cos(3.91167705851 + 19406.6782881746 * t);
-        Z0 += 0.00000000117 * Math.cos(4.68118162480 + 52182.9198301492 * t);
-        Z0 += 0.00000000130 * Math.cos(3.12963980623 + 38519.945791972 * t);
-        Z0 += 0.00000000123 * Math.cos(2.90959272560 + 52026.2430860138 * t);
-        Z0 += 0.00000000114 * Math.cos(3.34729061863 + 51109.31080595839 * t);
-        Z0 += 0.00000000109 * Math.cos(0.37062017000 + 115674.27666460119 * t);
-        Z0 += 0.00000000108 * Math.cos(5.35523619654 + 46848.3301747656 * t);
-        Z0 += 0.00000000120 * Math.cos(6.15890498480 + 155468.03691925599 * t);
-        Z0 += 0.00000000105 * Math.cos(1.26949313866 + 98068.53671630539 * t);
-        Z0 += 0.00000000124 * Math.cos(5.59073645014 + 74821.13447975718 * t);
-        Z0 += 0.00000000113 * Math.cos(5.37283602123 + 124778.18365871879 * t);
-        Z0 += 0.00000000101 * Math.cos(1.50859657746 + 157636.79740153858 * t);
-        Z0 += 0.00000000112 * Math.cos(6.24044765899 + 51123.53789995999 * t);
-        Z0 += 0.00000000089 * Math.cos(0.66689996363 + 103396.01282468818 * t);
-        Z0 += 0.00000000088 * Math.cos(3.24234443321 + 26727.8004278882 * t);
-        Z0 += 0.00000000083 * Math.cos(3.46887356727 + 77623.81213840858 * t);
-        Z0 += 0.00000000082 * Math.cos(3.58489505049 + 52329.58509363319 * t);
-        Z0 += 0.00000000082 * Math.cos(2.76598729250 + 35191.8101356918 * t);
-        Z0 += 0.00000000092 * Math.cos(2.89919284588 + 120226.23016165999 * t);
-        Z0 += 0.00000000081 * Math.cos(3.34888362248 + 52022.0274726636 * t);
-        Z0 += 0.00000000080 * Math.cos(1.61800826930 + 45494.58142974879 * t);
-        Z0 += 0.00000000087 * Math.cos(5.99930110618 + 129909.82474277639 * t);
-        Z0 += 0.00000000075 * Math.cos(1.29165560989 + 78283.37918562238 * t);
-        Z0 += 0.00000000097 * Math.cos(0.94285631414 + 85034.42002596818 * t);
-        Z0 += 0.00000000075 * Math.cos(0.93132779667 + 433.7117378768 * t);
-        Z0 += 0.00000000087 * Math.cos(3.29295494560 + 3340.6124266998 * t);
-        Z0 += 0.00000000083 * Math.cos(4.56076128644 + 419.4846438752 * t);
-        Z0 += 0.00000000080 * Math.cos(0.27627260080 + 105410.99449648599 * t);
-        Z0 += 0.00000000079 * Math.cos(5.99645052852 + 95247.70557217918 * t);
-        Z0 += 0.00000000074 * Math.cos(0.63932580906 + 64607.84893354619 * t);
-        Z0 += 0.00000000066 * Math.cos(4.71152255697 + 80482.46652890938 * t);
-        Z0 += 0.00000000073 * Math.cos(3.21815072307 + 52099.5402118728 * t);
-        Z0 += 0.00000000066 * Math.cos(2.98683203711 + 23754.70674870219 * t);
-        Z0 += 0.00000000091 * Math.cos(2.50052149852 + 104881.30353139139 * t);
-        Z0 += 0.00000000062 * Math.cos(5.73156315784 + 853.196381752 * t);
-        Z0 += 0.00000000086 * Math.cos(4.13151425024 + 313054.83769889036 * t);
-        Z0 += 0.00000000064 * Math.cos(1.17129038283 + 108903.56606335558 * t);
-        Z0 += 0.00000000059 * Math.cos(0.79111914848 + 7994.5284420242 * t);
-        Z0 += 0.00000000065 * Math.cos(0.25068571900 + 71025.03383312259 * t);
-        Z0 += 0.00000000057 * Math.cos(6.23642054033 + 1692.1656695024 * t);
-        Z0 += 0.00000000057 * Math.cos(4.67121384993 + 28206.6670019526 * t);
-        Z0 += 0.00000000059 * Math.cos(4.92822158961 + 78050.41032928458 * t);
-        Z0 += 0.00000000056 * Math.cos(2.09215892689 + 76144.94556434419 * t);
-        Z0 += 0.00000000056 * Math.cos(1.73304008242 + 25654.19140369739 * t);
-        Z0 += 0.00000000057 * Math.cos(4.73385475413 + 155418.04029735178 * t);
-        Z0 += 0.00000000056 * Math.cos(5.88720785632 + 26037.90651966999 * t);
-        Z0 += 0.00000000074 * Math.cos(5.46823409002 + 78244.0396638228 * t);
-        Z0 += 0.00000000061 * Math.cos(4.50066150046 + 25668.418497699 * t);
-        Z0 += 0.00000000071 * Math.cos(4.06855895670 + 162188.75089859738 * t);
-        Z0 += 0.00000000052 * Math.cos(2.74630211595 + 131395.11544947959 * t);
-        Z0 += 0.00000000055 * Math.cos(1.23376269855 + 26137.8997634784 * t);
-        Z0 += 0.00000000051 * Math.cos(4.16406216247 + 78259.82808936459 * t);
-        Z0 += 0.00000000048 * Math.cos(5.64584502444 + 71492.99882347698 * t);
-        Z0 += 0.00000000056 * Math.cos(2.21556357721 + 151975.46535238638 * t);
-        Z0 += 0.00000000052 * Math.cos(2.58403290426 + 128850.44281258718 * t);
-        Z0 += 0.00000000048 * Math.cos(2.53427528158 + 130012.91751699499 * t);
-        Z0 += 0.00000000045 * Math.cos(3.30208209778 + 111590.28815789679 * t);
-        Z0 += 0.00000000051 * Math.cos(2.59172476683 + 78267.59076008058 * t);
-        Z0 += 0.00000000047 * Math.cos(1.65481269433 + 18093.37469954999 * t);
-        Z0 += 0.00000000045 * Math.cos(4.61275436981 + 2333.196392872 * t);
-        Z0 += 0.00000000043 * Math.cos(4.08074925073 + 1596.1864422846 * t);
-        Z0 += 0.00000000042 * Math.cos(2.94276331302 + 24395.7374720718 * t);
-        Z0 += 0.00000000042 * Math.cos(4.02117925826 + 78477.00852016058 * t);
-        Z0 += 0.00000000056 * Math.cos(4.77237421864 + 28421.0995344462 * t);
-        Z0 += 0.00000000047 * Math.cos(6.11377086686 + 93028.94846799239 * t);
-        Z0 += 0.00000000040 * Math.cos(3.23768263734 + 25234.70675982219 * t);
-        Z0 += 0.00000000045 * Math.cos(5.03235979949 + 78256.59587772179 * t);
-        Z0 += 0.00000000053 * Math.cos(6.07709485433 + 10021.8372800994 * t);
-        Z0 += 0.00000000050 * Math.cos(5.81013134251 + 90829.86112470538 * t);
-        Z0 += 0.00000000038 * Math.cos(1.96485604602 + 632.7837393132 * t);
-        Z0 += 0.00000000051 * Math.cos(3.90465378478 + 74.7815985673 * t);
-        Z0 += 0.00000000036 * Math.cos(6.02764042024 + 78114.14622758799 * t);
-        Z0 += 0.00000000035 * Math.cos(0.19483010119 + 77197.21394753258 * t);
-        Z0 += 0.00000000038 * Math.cos(0.85372328004 + 26237.46633870879 * t);
-        Z0 += 0.00000000036 * Math.cos(3.61160802929 + 48835.19385644859 * t);
-        Z0 += 0.00000000036 * Math.cos(0.36428632576 + 27154.3986187642 * t);
-        Z0 += 0.00000000037 * Math.cos(2.58618864774 + 51707.84129279399 * t);
-        Z0 += 0.00000000047 * Math.cos(3.11077813997 + 16066.0658614748 * t);
-        Z0 += 0.00000000034 * Math.cos(5.90024410478 + 103.0927742186 * t);
-        Z0 += 0.00000000035 * Math.cos(1.89948168639 + 52169.17772424839 * t);
-        Z0 += 0.00000000035 * Math.cos(3.09037355598 + 77211.44104153418 * t);
-        Z0 += 0.00000000035 * Math.cos(5.86095139046 + 18207.81398823521 * t);
-        Z0 += 0.00000000038 * Math.cos(1.94104879109 + 76044.9523205358 * t);
-        Z0 += 0.00000000032 * Math.cos(1.45277855585 + 78270.82297172339 * t);
-        Z0 += 0.00000000044 * Math.cos(4.36195482299 + 52643.7712735028 * t);
-        Z0 += 0.00000000043 * Math.cos(0.13191769323 + 1581.959348283 * t);
-        Z0 += 0.00000000032 * Math.cos(4.70833495807 + 71582.48457132299 * t);
-        Z0 += 0.00000000037 * Math.cos(3.75248447021 + 27140.17152476259 * t);
-        Z0 += 0.00000000042 * Math.cos(2.34341217670 + 84546.78527471398 * t);
-        Z0 += 0.00000000031 * Math.cos(2.09939558148 + 2648.454825473 * t);
-        Z0 += 0.00000000033 * Math.cos(4.22087782315 + 111122.32316754239 * t);
-        Z0 += 0.00000000032 * Math.cos(5.93849066304 + 51742.09454527159 * t);
-        Z0 += 0.00000000037 * Math.cos(2.22778724531 + 25973.46385288896 * t);
-        Z0 += 0.00000000031 * Math.cos(0.06282672228 + 536.8045120954 * t);
-        Z0 += 0.00000000030 * Math.cos(0.17325551658 + 224.3447957019 * t);
-        Z0 += 0.00000000030 * Math.cos(4.46570213013 + 81706.28436968799 * t);
-        Z0 += 0.00000000029 * Math.cos(4.99680928394 + 24491.71669928959 * t);
-        Z0 += 0.00000000035 * Math.cos(5.04036468235 + 52182.4348420484 * t);
-        Z0 += 0.00000000033 * Math.cos(4.30956969733 + 14477.35118320 * t);
-        Z0 += 0.00000000039 * Math.cos(3.99296635763 + 78690.30761559859 * t);
-        Z0 += 0.00000000028 * Math.cos(3.41723065188 + 7880.08915333899 * t);
-        Z0 += 0.00000000039 * Math.cos(0.38970280197 + 114564.89811250778 * t);
-        Z0 += 0.00000000033 * Math.cos(3.85407359005 + 143961.26714946238 * t);
-        Z0 += 0.00000000029 * Math.cos(2.14304937049 + 150866.08680029298 * t);
-        Z0 += 0.00000000028 * Math.cos(4.95187621332 + 956.2891559706 * t);
-        Z0 += 0.00000000036 * Math.cos(4.89757043872 + 26202.34243025941 * t);
-        Z0 += 0.00000000030 * Math.cos(0.55025093927 + 33967.99229491319 * t);
-        Z0 += 0.00000000028 * Math.cos(1.52043005918 + 40565.2543247742 * t);
-        Z0 += 0.00000000027 * Math.cos(5.29884427476 + 1162.4747044078 * t);
-        Z0 += 0.00000000027 * Math.cos(3.44440418351 + 141762.17980617538 * t);
-        Z0 += 0.00000000035 * Math.cos(2.50821332798 + 72936.23331633979 * t);
-        Z0 += 0.00000000028 * Math.cos(0.83354394743 + 42153.969003049 * t);
-        Z0 += 0.00000000036 * Math.cos(4.02142487381 + 79852.78232000639 * t);
-        Z0 += 0.00000000026 * Math.cos(1.15352991801 + 51322.60990139639 * t);
-        Z0 += 0.00000000026 * Math.cos(0.13577439886 + 22747.2907148744 * t);
-        Z0 += 0.00000000027 * Math.cos(4.82379477303 + 110.2063212194 * t);
-        Z0 += 0.00000000025 * Math.cos(0.71097564554 + 50483.640613646 * t);
-        Z0 += 0.00000000024 * Math.cos(2.92248010137 + 121335.60871375339 * t);
-        Z0 += 0.00000000026 * Math.cos(4.56151347419 + 183724.70054311278 * t);
-        Z0 += 0.00000000024 * Math.cos(2.16545180970 + 32769.1279949738 * t);
-        Z0 += 0.00000000031 * Math.cos(2.33336639968 + 51756.3216392732 * t);
-        Z0 += 0.00000000032 * Math.cos(2.93016714121 + 181555.94006083018 * t);
-        Z0 += 0.00000000027 * Math.cos(4.32935860229 + 124156.43985787958 * t);
-        Z0 += 0.00000000023 * Math.cos(6.16949223424 + 39743.7636327506 * t);
-        Z0 += 0.00000000023 * Math.cos(2.77333133719 + 155997.72788435058 * t);
-        Z0 += 0.00000000022 * Math.cos(2.90047805068 + 25863.55834587229 * t);
-        Z0 += 0.00000000023 * Math.cos(0.26296960044 + 103711.71527998279 * t);
-        Z0 += 0.00000000022 * Math.cos(0.49237419293 + 23439.44831610119 * t);
-        Z0 += 0.00000000027 * Math.cos(2.77269830479 + 24505.94379329119 * t);
-        Z0 += 0.00000000022 * Math.cos(0.39938514656 + 26164.1692128498 * t);
-        Z0 += 0.00000000022 * Math.cos(0.07820939757 + 78187.44335344699 * t);
-        Z0 += 0.00000000022 * Math.cos(3.71330627735 + 129483.91596626239 * t);
-        Z0 += 0.00000000023 * Math.cos(5.63887355161 + 522.5774180938 * t);
-        Z0 += 0.00000000021 * Math.cos(3.36821177399 + 1375.7737998458 * t);
-        Z0 += 0.00000000029 * Math.cos(5.62929042847 + 44181.27784112419 * t);
-        Z0 += 0.00000000022 * Math.cos(4.35422573947 + 26720.68688088739 * t);
-        Z0 += 0.00000000021 * Math.cos(5.12497732226 + 11610.5519583742 * t);
-        Z0 += 0.00000000025 * Math.cos(5.36835518856 + 26013.1215430069 * t);
-        Z0 += 0.00000000024 * Math.cos(5.55813303813 + 130969.20667296558 * t);
-        Z0 += 0.00000000020 * Math.cos(4.79424075731 + 25780.3455206046 * t);
-        Z0 += 0.00000000020 * Math.cos(3.82740705898 + 24925.4284371664 * t);
-        Z0 += 0.00000000020 * Math.cos(4.26878389727 + 25131.61398560359 * t);
-        Z0 += 0.00000000021 * Math.cos(5.10505150441 + 25977.69682035479 * t);
-        Z0 += 0.00000000020 * Math.cos(3.32855955978 + 131498.89763806018 * t);
-        Z0 += 0.00000000020 * Math.cos(1.29805086237 + 467.9649903544 * t);
-        Z0 += 0.00000000023 * Math.cos(2.06377601353 + 100909.03762133139 * t);
-        Z0 += 0.00000000027 * Math.cos(4.46165349883 + 316.3918696566 * t);
-        Z0 += 0.00000000019 * Math.cos(2.33132135274 + 26395.46076254379 * t);
-        Z0 += 0.00000000019 * Math.cos(0.35229627877 + 78417.48823520739 * t);
-        Z0 += 0.00000000019 * Math.cos(2.86176933014 + 50579.61984086379 * t);
-        Z0 += 0.00000000018 * Math.cos(4.33826105585 + 104371.28232719658 * t);
-        Z0 += 0.00000000022 * Math.cos(1.69381062404 + 106570.36967048359 * t);
-        Z0 += 0.00000000021 * Math.cos(0.89581658307 + 339142.74084046457 * t);
-        Z0 += 0.00000000025 * Math.cos(5.95532312645 + 146314.13330323418 * t);
-        Z0 += 0.00000000020 * Math.cos(0.11725114676 + 52815.7035694624 * t);
-        Z0 += 0.00000000018 * Math.cos(1.66756826028 + 23888.81579828719 * t);
-        Z0 += 0.00000000022 * Math.cos(4.37150668135 + 1478.8665740644 * t);
-        Z0 += 0.00000000017 * Math.cos(4.39063105551 + 60055.89543648739 * t);
-        Z0 += 0.00000000017 * Math.cos(3.17668084118 + 70269.18098269838 * t);
-        Z0 += 0.00000000017 * Math.cos(1.74029229152 + 104138.31347085879 * t);
-        Z0 += 0.00000000017 * Math.cos(5.24411288462 + 102232.84870591838 * t);
-        Z0 += 0.00000000019 * Math.cos(0.11691865573 + 78109.93061423779 * t);
-        Z0 += 0.00000000017 * Math.cos(3.28697052824 + 25565.3257234804 * t);
-        Z0 += 0.00000000019 * Math.cos(0.84289230962 + 188276.65404017158 * t);
-        Z0 += 0.00000000018 * Math.cos(0.47252163890 + 27999.1026247914 * t);
-        Z0 += 0.00000000016 * Math.cos(2.81320924670 + 52101.02468458109 * t);
-        Z0 += 0.00000000016 * Math.cos(4.20710393311 + 134991.46920492979 * t);
-        Z0 += 0.00000000019 * Math.cos(0.54267379272 + 50593.84693486539 * t);
-        Z0 += 0.00000000015 * Math.cos(5.78613478653 + 24712.1293417284 * t);
-        Z0 += 0.00000000018 * Math.cos(2.23136091809 + 104331.94280539699 * t);
-        Z0 += 0.00000000016 * Math.cos(3.30957717580 + 97112.93697469679 * t);
-        Z0 += 0.00000000016 * Math.cos(1.02655918243 + 26162.6847401415 * t);
-        Z0 += 0.00000000015 * Math.cos(0.51501957594 + 13362.4497067992 * t);
-        Z0 += 0.00000000015 * Math.cos(5.44457668379 + 28286.9904848612 * t);
-        Z0 += 0.00000000015 * Math.cos(3.33697839260 + 206.1855484372 * t);
-        Z0 += 0.00000000015 * Math.cos(3.09319808895 + 25984.8103673556 * t);
-        Z0 += 0.00000000019 * Math.cos(5.95214817336 + 29428.515568274 * t);
-        Z0 += 0.00000000017 * Math.cos(1.60411390680 + 26507.38778544939 * t);
-        Z0 += 0.00000000016 * Math.cos(3.62113927445 + 26610.48055966799 * t);
-        Z0 += 0.00000000018 * Math.cos(4.55509949626 + 51543.0225438352 * t);
-        Z0 += 0.00000000016 * Math.cos(4.95762784074 + 25771.5112719176 * t);
-        Z0 += 0.00000000014 * Math.cos(0.15853597470 + 647.0108333148 * t);
-        Z0 += 0.00000000016 * Math.cos(3.53658275362 + 25551.09862947879 * t);
-        Z0 += 0.00000000013 * Math.cos(2.28786159405 + 12725.453434775 * t);
-        Z0 += 0.00000000016 * Math.cos(3.05451392033 + 26190.99591579279 * t);
-        Z0 += 0.00000000013 * Math.cos(5.81922389967 + 157483.01859105378 * t);
-        Z0 += 0.00000000013 * Math.cos(4.03160498458 + 24356.7807886416 * t);
-        Z0 += 0.00000000013 * Math.cos(4.49878848868 + 29416.03879785439 * t);
-        Z0 += 0.00000000016 * Math.cos(1.14380482430 + 26404.2950112308 * t);
-        Z0 += 0.00000000016 * Math.cos(4.77704247519 + 24609.0365675098 * t);
-        Z0 += 0.00000000013 * Math.cos(1.33944288754 + 52808.59002246159 * t);
-        Z0 += 0.00000000015 * Math.cos(1.50513017421 + 181505.94343892598 * t);
-        Z0 += 0.00000000012 * Math.cos(0.92918175452 + 104347.73123093879 * t);
-        Z0 += 0.00000000014 * Math.cos(2.44451494167 + 26421.7590823436 * t);
-        Z0 += 0.00000000012 * Math.cos(1.66798607577 + 51013.33157874059 * t);
-        Z0 += 0.00000000012 * Math.cos(4.24892890325 + 52225.8029050526 * t);
-        Z0 += 0.00000000014 * Math.cos(4.68967753702 + 25754.0472008048 * t);
-        Z0 += 0.00000000013 * Math.cos(0.63063491269 + 51639.00177105299 * t);
-        Z0 += 0.00000000013 * Math.cos(0.51980975221 + 51951.46148744649 * t);
-        Z0 += 0.00000000013 * Math.cos(0.11999669275 + 26294.08869001139 * t);
-        Z0 += 0.00000000012 * Math.cos(5.63990253843 + 104355.49390165479 * t);
-        Z0 += 0.00000000013 * Math.cos(0.37271479520 + 74923.09699802278 * t);
-        Z0 += 0.00000000015 * Math.cos(2.19958896111 + 22759.76748529401 * t);
-        Z0 += 0.00000000013 * Math.cos(1.47842980598 + 54294.57014352679 * t);
-        Z0 += 0.00000000012 * Math.cos(3.10508217703 + 27819.0254945068 * t);
-        Z0 += 0.00000000011 * Math.cos(2.42209220629 + 97580.90196505119 * t);
-        Z0 += 0.00000000013 * Math.cos(2.58513127775 + 116917.76426627958 * t);
-        Z0 += 0.00000000011 * Math.cos(4.76885794954 + 49527.35145767539 * t);
-        Z0 += 0.00000000011 * Math.cos(3.92593978045 + 26521.614879451 * t);
-        Z0 += 0.00000000011 * Math.cos(2.89444277066 + 119116.85160956658 * t);
-        Z0 += 0.00000000012 * Math.cos(5.58737020094 + 25881.717593137 * t);
-        Z0 += 0.00000000013 * Math.cos(5.59537220560 + 156100.82065856918 * t);
-        Z0 += 0.00000000012 * Math.cos(2.01299993075 + 51219.51712717779 * t);
-        Z0 += 0.00000000011 * Math.cos(0.99253734697 + 25455.119402261 * t);
-        Z0 += 0.00000000014 * Math.cos(5.68122574937 + 154938.34595416138 * t);
-        Z0 += 0.00000000015 * Math.cos(5.27886514517 + 178063.36849396059 * t);
-        Z0 += 0.00000000014 * Math.cos(6.12654802167 + 52278.89905736699 * t);
-        Z0 += 0.00000000011 * Math.cos(0.06908636848 + 52072.71350892979 * t);
-        Z0 += 0.00000000011 * Math.cos(0.80982228740 + 104564.91166173479 * t);
-        Z0 += 0.00000000013 * Math.cos(3.96505351243 + 68241.87214462319 * t);
-        Z0 += 0.00000000011 * Math.cos(2.65559265085 + 52125.80966124419 * t);
-        Z0 += 0.00000000012 * Math.cos(6.26057108211 + 24176.703658357 * t);
-        Z0 += 0.00000000012 * Math.cos(1.73021765373 + 104344.49901929598 * t);
-        Z0 += 0.00000000010 * Math.cos(2.77364193598 + 77829.99768684579 * t);
-        Z0 += 0.00000000010 * Math.cos(2.83314383566 + 104202.04936916218 * t);
-        Z0 += 0.00000000010 * Math.cos(4.05963464737 + 26089.38761428249 * t);
-        Z0 += 0.00000000012 * Math.cos(5.40316858194 + 110634.68841628819 * t);
-        Z0 += 0.00000000010 * Math.cos(6.17247219966 + 103299.34418310839 * t);
-        Z0 += 0.00000000010 * Math.cos(0.02153234343 + 137678.19129947099 * t);
-        Z0 += 0.00000000012 * Math.cos(2.25188175428 + 52065.59996192899 * t);
-        Z0 += 0.00000000010 * Math.cos(3.11650831039 + 26086.4186688659 * t);
-        Z0 += 0.00000000010 * Math.cos(3.27287049435 + 103285.11708910679 * t);
-        Z0 += 0.00000000010 * Math.cos(1.38532261128 + 25446.4895798352 * t);
-        Z0 += 0.00000000012 * Math.cos(1.52019007531 + 54509.0026760204 * t);
-        Z0 += 0.00000000011 * Math.cos(6.21574870463 + 61279.713277266 * t);
-        Z0 += 0.00000000009 * Math.cos(0.49710408415 + 2221.856634597 * t);
-        Z0 += 0.00000000009 * Math.cos(2.88821691711 + 90695.75207512038 * t);
-        Z0 += 0.00000000011 * Math.cos(2.16522629249 + 26624.70765366959 * t);
-        Z0 += 0.00000000009 * Math.cos(4.80391342687 + 27311.72098235281 * t);
-        Z0 += 0.00000000009 * Math.cos(4.23373474411 + 52250.5878817157 * t);
-        Z0 += 0.00000000009 * Math.cos(5.74437259170 + 26729.31670331319 * t);
-        Z0 += 0.00000000010 * Math.cos(3.47517485960 + 140652.80125408198 * t);
-        Z0 += 0.00000000010 * Math.cos(2.80299508279 + 55516.4187098482 * t);
-        Z0 += 0.00000000013 * Math.cos(4.07250716348 + 34282.1784747828 * t);
-        Z0 += 0.00000000009 * Math.cos(0.66918270135 + 52698.38370124219 * t);
-        Z0 += 0.00000000010 * Math.cos(5.43273059228 + 126996.94076290558 * t);
-        Z0 += 0.00000000009 * Math.cos(1.51413989531 + 97670.38771289718 * t);
-        Z0 += 0.00000000010 * Math.cos(1.07944281160 + 742.9900605326 * t);
-        Z0 += 0.00000000009 * Math.cos(3.33909678408 + 1911.1994832172 * t);
-        Z0 += 0.00000000009 * Math.cos(6.28167845492 + 147423.51185532758 * t);
-        Z0 += 0.00000000010 * Math.cos(0.71259250113 + 137210.22630911658 * t);
-        Z0 += 0.00000000009 * Math.cos(3.57005441415 + 50800.03248330259 * t);
-        Z0 += 0.00000000009 * Math.cos(5.50160718751 + 2199.087343287 * t);
-        Z0 += 0.00000000009 * Math.cos(2.08845571909 + 51859.41441349179 * t);
-        Z0 += 0.00000000009 * Math.cos(4.25308230419 + 26222.0121911592 * t);
-        Z0 += 0.00000000009 * Math.cos(2.50157520492 + 24864.08530079559 * t);
-        Z0 += 0.00000000008 * Math.cos(2.47794653703 + 25440.89230825939 * t);
-        Z0 += 0.00000000009 * Math.cos(2.85482376043 + 25953.79409198919 * t);
-        Z0 += 0.00000000008 * Math.cos(2.29776576843 + 23866.04650697719 * t);
-        Z0 += 0.00000000009 * Math.cos(0.78685007135 + 104778.21075717278 * t);
-        Z0 += 0.00000000008 * Math.cos(4.62944551319 + 52492.19815280499 * t);
-        Z0 += 0.00000000009 * Math.cos(5.48506768547 + 77844.22478084739 * t);
-        Z0 += 0.00000000010 * Math.cos(1.12934836943 + 78731.674415077 * t);
-        Z0 += 0.00000000008 * Math.cos(2.59549267900 + 26941.0995233262 * t);
-        Z0 += 0.00000000008 * Math.cos(4.95780242181 + 78257.08086582259 * t);
-        Z0 += 0.00000000008 * Math.cos(2.55696609752 + 17893.6278083656 * t);
-        Z0 += 0.00000000008 * Math.cos(4.52002369897 + 104358.72611329758 * t);
-        Z0 += 0.00000000008 * Math.cos(3.82529998469 + 76571.54375522019 * t);
-        Z0 += 0.00000000010 * Math.cos(2.73498400513 + 323.5054166574 * t);
-        Z0 += 0.00000000009 * Math.cos(1.57363188943 + 24998.19435038059 * t);
-        Z0 += 0.00000000008 * Math.cos(0.65301230309 + 8194.2753332086 * t);
-        Z0 += 0.00000000008 * Math.cos(4.30691637723 + 77410.51304297059 * t);
-        Z0 += 0.00000000008 * Math.cos(5.61648727808 + 77795.74443436819 * t);
-        Z0 += 0.00000000009 * Math.cos(2.56370604921 + 50696.93970908399 * t);
-        Z0 += 0.00000000008 * Math.cos(5.53494196837 + 2008.557539159 * t);
-        Z0 += 0.00000000009 * Math.cos(0.81310827208 + 105940.68546158058 * t);
-        Z0 += 0.00000000008 * Math.cos(3.03053180726 + 27780.06881107659 * t);
-        Z0 += 0.00000000008 * Math.cos(1.09072579794 + 949.1756089698 * t);
-        Z0 += 0.00000000008 * Math.cos(5.21537078773 + 176953.98994186718 * t);
-        Z0 += 0.00000000008 * Math.cos(2.88040588282 + 36109.7404216736 * t);
-        Z0 += 0.00000000008 * Math.cos(3.90879186991 + 54087.0057663656 * t);
-        Z0 += 0.00000000007 * Math.cos(2.09304055777 + 25344.9130810416 * t);
-        Z0 += 0.00000000007 * Math.cos(3.77982679537 + 19.66976089979 * t);
-        Z0 += 0.00000000008 * Math.cos(2.01169539344 + 31415.379249957 * t);
-        Z0 += 0.00000000008 * Math.cos(6.01136820214 + 207643.84320240439 * t);
-        Z0 += 0.00000000008 * Math.cos(6.24227744862 + 38813.3565763492 * t);
-        Z0 += 0.00000000008 * Math.cos(1.33108336808 + 55503.94193942859 * t);
-        Z0 += 0.00000000007 * Math.cos(3.30804741677 + 23919.1426592916 * t);
-        Z0 += 0.00000000008 * Math.cos(3.48746520229 + 53242.3017603384 * t);
-        Z0 += 0.00000000008 * Math.cos(5.56477337187 + 27177.6119327678 * t);
-        Z0 += 0.00000000009 * Math.cos(5.00034866965 + 102132.85546210999 * t);
-        Z0 += 0.00000000007 * Math.cos(0.40751314845 + 2111.6503133776 * t);
-        Z0 += 0.00000000008 * Math.cos(1.66471235682 + 52290.24557183361 * t);
-        Z0 += 0.00000000007 * Math.cos(0.77215567463 + 26073.67604757259 * t);
-        Z0 += 0.00000000007 * Math.cos(5.32306426879 + 52595.29092702359 * t);
-        Z0 += 0.00000000007 * Math.cos(2.57023734016 + 24448.8336243862 * t);
-        Z0 += 0.00000000007 * Math.cos(1.40330361432 + 150244.34299945379 * t);
-        Z0 += 0.00000000008 * Math.cos(3.96541390761 + 52325.36948028299 * t);
-        Z0 += 0.00000000008 * Math.cos(0.64215744063 + 53228.07466633679 * t);
-        Z0 += 0.00000000007 * Math.cos(5.40994893955 + 25508.2155545754 * t);
-        Z0 += 0.00000000009 * Math.cos(0.63097343517 + 170049.17029103659 * t);
-        Z0 += 0.00000000006 * Math.cos(2.73735624509 + 153.7788104848 * t);
-        Z0 += 0.00000000006 * Math.cos(1.57808561874 + 49842.60989027639 * t);
-        Z0 += 0.00000000006 * Math.cos(5.85639973088 + 182085.63102592478 * t);
-        Z0 += 0.00000000007 * Math.cos(1.22602076365 + 107794.18751126219 * t);
-        Z0 += 0.00000000007 * Math.cos(2.99828544115 + 22625.658435709 * t);
-        Z0 += 0.00000000007 * Math.cos(3.38113527243 + 12546.481939083 * t);
-        Z0 += 0.00000000006 * Math.cos(5.98824736570 + 76667.52298243798 * t);
-        Z0 += 0.00000000007 * Math.cos(2.75252330601 + 172402.03644480839 * t);
-        Z0 += 0.00000000007 * Math.cos(0.93184314111 + 3328.13565628019 * t);
-        Z0 += 0.00000000006 * Math.cos(2.72361970528 + 26709.6469424134 * t);
-        Z0 += 0.00000000008 * Math.cos(1.81192469081 + 78270.33798362259 * t);
-        Z0 += 0.00000000006 * Math.cos(2.31595886989 + 157057.10981453978 * t);
-        Z0 += 0.00000000006 * Math.cos(1.73557063122 + 26667.590728573 * t);
-        Z0 += 0.00000000006 * Math.cos(4.37863242786 + 25466.159340735 * t);
-        Z0 += 0.00000000006 * Math.cos(3.19403160700 + 104275.34649502118 * t);
-        Z0 += 0.00000000006 * Math.cos(1.09823646265 + 25867.49049913539 * t);
-        Z0 += 0.00000000007 * Math.cos(0.11236053840 + 25764.39772491679 * t);
-        Z0 += 0.00000000007 * Math.cos(5.69537766284 + 66653.15746634839 * t);
-        Z0 += 0.00000000007 * Math.cos(1.98238737869 + 846.0828347512 * t);
-        Z0 += 0.00000000006 * Math.cos(0.65894058731 + 116783.65521669458 * t);
-        Z0 += 0.00000000005 * Math.cos(4.66761334131 + 2125.8774073792 * t);
-        Z0 += 0.00000000006 * Math.cos(4.52221761723 + 27726.9726587622 * t);
-        Z0 += 0.00000000006 * Math.cos(0.09840227420 + 167850.08294774959 * t);
-        Z0 += 0.00000000006 * Math.cos(3.36608415071 + 129799.61842155698 * t);
-        Z0 += 0.00000000007 * Math.cos(5.27549434329 + 52061.36699446317 * t);
-        Z0 += 0.00000000007 * Math.cos(1.32305784951 + 209812.60368468695 * t);
-        Z0 += 0.00000000006 * Math.cos(3.60884349448 + 78903.60671103658 * t);
-        Z0 += 0.00000000005 * Math.cos(3.76183094594 + 28256.66362385679 * t);
-        Z0 += 0.00000000006 * Math.cos(5.26397966812 + 75930.51303185058 * t);
-        Z0 += 0.00000000006 * Math.cos(3.23097479261 + 27669.86248985719 * t);
-        Z0 += 0.00000000005 * Math.cos(5.68060753615 + 1265.5674786264 * t);
-        Z0 += 0.00000000005 * Math.cos(3.87273283224 + 214364.55718174578 * t);
-        Z0 += 0.00000000005 * Math.cos(3.93047654027 + 365230.64398203876 * t);
-        Z0 += 0.00000000006 * Math.cos(2.60562458198 + 44295.7171298094 * t);
-        Z0 += 0.00000000005 * Math.cos(1.56438384826 + 60370.08161635699 * t);
-        Z0 += 0.00000000005 * Math.cos(0.91437456221 + 27684.0895838588 * t);
-        Z0 += 0.00000000005 * Math.cos(2.78304413268 + 25169.9728555924 * t);
-        Z0 += 0.00000000006 * Math.cos(5.76131236705 + 58857.03113654799 * t);
-        Z0 += 0.00000000005 * Math.cos(2.67085954875 + 38.1330356378 * t);
-        Z0 += 0.00000000006 * Math.cos(0.50453577398 + 155571.81910783658 * t);
-        Z0 += 0.00000000005 * Math.cos(3.86250449828 + 52381.99183158559 * t);
-        Z0 += 0.00000000005 * Math.cos(4.32361771821 + 27005.83342755599 * t);
-        Z0 += 0.00000000005 * Math.cos(1.63783306460 + 34082.4315835984 * t);
-        Z0 += 0.00000000006 * Math.cos(4.13235037436 + 29550.14784743939 * t);
-        Z0 += 0.00000000005 * Math.cos(0.09069856194 + 13541.42120249119 * t);
-        Z0 += 0.00000000005 * Math.cos(5.50663993071 + 26402.0893214438 * t);
-        Z0 += 0.00000000004 * Math.cos(5.22554265930 + 28736.3579670472 * t);
-        Z0 += 0.00000000005 * Math.cos(5.88997457155 + 78188.92782615528 * t);
-        Z0 += 0.00000000005 * Math.cos(1.29427545799 + 77630.92568540938 * t);
-        Z0 += 0.00000000006 * Math.cos(3.65818107099 + 76681.75007643958 * t);
-        Z0 += 0.00000000005 * Math.cos(1.59378640261 + 25773.71696170459 * t);
-        Z0 += 0.00000000005 * Math.cos(5.53985466815 + 24203.0019781568 * t);
-        Z0 += 0.00000000005 * Math.cos(1.10121885185 + 130459.18546877075 * t);
-        Z0 += 0.00000000005 * Math.cos(3.55866759420 + 52252.07235442399 * t);
-        Z0 += 0.00000000004 * Math.cos(5.49843651098 + 52712.61079524379 * t);
-        Z0 += 0.00000000005 * Math.cos(3.39959787962 + 104505.39137678158 * t);
-        Z0 += 0.00000000005 * Math.cos(1.94175393423 + 1272.6810256272 * t);
-        Z0 += 0.00000000004 * Math.cos(0.58115883263 + 26118.2300025786 * t);
-        Z0 += 0.00000000004 * Math.cos(0.54682947961 + 157586.80077963437 * t);
-        Z0 += 0.00000000004 * Math.cos(2.04212740892 + 148.0787244263 * t);
-        Z0 += 0.00000000005 * Math.cos(1.64853656178 + 26198.1094627936 * t);
-        Z0 += 0.00000000005 * Math.cos(0.18946812001 + 1.4844727083 * t);
-        Z0 += 0.00000000004 * Math.cos(5.04774492766 + 112231.70171963578 * t);
-        Z0 += 0.00000000004 * Math.cos(3.24889530044 + 26312.2479372761 * t);
-        Z0 += 0.00000000005 * Math.cos(2.14793916248 + 128320.75184749259 * t);
-        Z0 += 0.00000000004 * Math.cos(3.03681019540 + 151.0476698429 * t);
-        Z0 += 0.00000000004 * Math.cos(0.23608219351 + 26057.57628056979 * t);
-        Z0 += 0.00000000004 * Math.cos(2.78449581166 + 25138.7275326044 * t);
-        Z0 += 0.00000000004 * Math.cos(1.74750321635 + 27044.1922975448 * t);
-        Z0 += 0.00000000004 * Math.cos(5.26585590029 + 138319.60486120995 * t);
-        Z0 += 0.00000000004 * Math.cos(2.16361705057 + 78366.80219894118 * t);
-        Z0 += 0.00000000005 * Math.cos(1.86438708559 + 51653.22886505459 * t);
-        Z0 += 0.00000000004 * Math.cos(3.67745684549 + 148532.89040742096 * t);
-        Z0 += 0.00000000005 * Math.cos(3.36418574107 + 86457.98475793119 * t);
-        Z0 += 0.00000000004 * Math.cos(4.39817949768 + 78896.49316403578 * t);
-        Z0 += 0.00000000004 * Math.cos(3.16495363173 + 104197.83375581198 * t);
-        Z0 += 0.00000000004 * Math.cos(5.96720583626 + 1485.9801210652 * t);
-        Z0 += 0.00000000003 * Math.cos(3.62369510287 + 51852.30086649099 * t);
-        Z0 += 0.00000000004 * Math.cos(4.95850373202 + 80382.47328510099 * t);
-        Z0 += 0.00000000003 * Math.cos(0.24273955075 + 128106.31931499895 * t);
-        Z0 += 0.00000000004 * Math.cos(6.09423095974 + 51528.79544983359 * t);
-        Z0 += 0.00000000004 * Math.cos(2.26832726016 + 64901.25971792339 * t);
-        Z0 += 0.00000000004 * Math.cos(5.37231956323 + 99024.13645791399 * t);
-        Z0 += 0.00000000004 * Math.cos(5.83099981006 + 26411.4085582316 * t);
-        Z0 += 0.00000000003 * Math.cos(5.27877050710 + 14.2270940016 * t);
-        Z0 += 0.00000000004 * Math.cos(1.01079656557 + 16703.062133499 * t);
-        Z0 += 0.00000000003 * Math.cos(5.29624442233 + 51432.81622261579 * t);
-        Z0 += 0.00000000003 * Math.cos(1.99372517333 + 9384.8410080752 * t);
-        Z0 += 0.00000000003 * Math.cos(1.08549694329 + 92741.06060792258 * t);
-        Z0 += 0.00000000004 * Math.cos(2.61532511231 + 27250.37784598199 * t);
-        Z0 += 0.00000000004 * Math.cos(3.84384246230 + 65831.6667743248 * t);
-        Z0 += 0.00000000004 * Math.cos(5.07647835306 + 118828.96374949679 * t);
-        Z0 += 0.00000000004 * Math.cos(0.95691561960 + 1795.258443721 * t);
-        Z0 += 0.00000000003 * Math.cos(4.56071055194 + 130419.8459469712 * t);
-        Z0 += 0.00000000004 * Math.cos(3.21002699852 + 51969.62073471119 * t);
-        Z0 += 0.00000000003 * Math.cos(0.53542089836 + 25985.94062330859 * t);
-        Z0 += 0.00000000003 * Math.cos(0.86346795613 + 27972.80430499159 * t);
-        Z0 += 0.00000000004 * Math.cos(1.11850373850 + 52609.51802102519 * t);
-        Z0 += 0.00000000003 * Math.cos(5.13697350283 + 26189.8656598398 * t);
-        Z0 += 0.00000000003 * Math.cos(3.83162907268 + 207593.84658050018 * t);
-        Z0 += 0.00000000003 * Math.cos(3.70405700948 + 193937.98608932378 * t);
-        Z0 += 0.00000000003 * Math.cos(1.82907554275 + 153084.84390447979 * t);
-        Z0 += 0.00000000003 * Math.cos(1.75677414102 + 158746.17595363196 * t);
-        Z0 += 0.00000000003 * Math.cos(0.34579536632 + 161079.37234650398 * t);
-        Z0 += 0.00000000003 * Math.cos(3.85483830173 + 39629.32434406539 * t);
-        Z0 += 0.00000000003 * Math.cos(0.82694378727 + 51868.2486621788 * t);
-        Z0 += 0.00000000003 * Math.cos(0.16328069810 + 27463.67694142 * t);
-        Z0 += 0.00000000003 * Math.cos(4.08971647963 + 130226.21661243298 * t);
-        Z0 += 0.00000000004 * Math.cos(3.70176043302 + 163766.09444104518 * t);
-        Z0 += 0.00000000003 * Math.cos(1.31853873267 + 204151.27163553478 * t);
-        Z0 += 0.00000000004 * Math.cos(2.50849600287 + 220.4126424388 * t);
-        Z0 += 0.00000000003 * Math.cos(3.29076294593 + 125112.03959948818 * t);
-        Z0 += 0.00000000003 * Math.cos(5.82527117029 + 49953.94964855139 * t);
-        Z0 += 0.00000000003 * Math.cos(1.83258674312 + 37698.4550999484 * t);
-        Z0 += 0.00000000003 * Math.cos(1.84707936363 + 26076.8574413103 * t);
-        Z0 += 0.00000000003 * Math.cos(3.96840940578 + 130432.40216087017 * t);
-        Z0 += 0.00000000003 * Math.cos(0.01192870778 + 26098.9488418381 * t);
-        Z0 += 0.00000000003 * Math.cos(2.24128507678 + 78160.61665050399 * t);
-        Z0 += 0.00000000003 * Math.cos(1.67457691866 + 182188.72380014337 * t);
-        Z0 += 0.00000000003 * Math.cos(1.36021422148 + 136722.59155786238 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 351 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00108722177 * Math.cos(3.91134750825 + 26087.9031415742 * t);
-        Z1 -= 0.00057826621;
-        Z1 += 0.00004297352 * Math.cos(2.56373047177 + 52175.8062831484 * t);
-        Z1 += 0.00002435833 * Math.cos(0.05112640506 + 78263.70942472259 * t);
-        Z1 += 0.00000795699 * Math.cos(3.20041081922 + 104351.61256629678 * t);
-        Z1 += 0.00000229251 * Math.cos(0.00558431110 + 130439.51570787099 * t);
-        Z1 += 0.00000063404 * Math.cos(3.07612843684 + 156527.41884944518 * t);
-        Z1 += 0.00000017253 * Math.cos(6.13908634954 + 182615.32199101939 * t);
-        Z1 += 0.00000009622 * Math.cos(0.37621894804 + 27197.2816936676 * t);
-        Z1 += 0.00000006297 * Math.cos(0.39728882750 + 24978.5245894808 * t);
-        Z1 += 0.00000004662 * Math.cos(2.91492698307 + 208703.22513259358 * t);
-        Z1 += 0.00000002148 * Math.cos(3.48577221863 + 53285.1848352418 * t);
-        Z1 += 0.00000001752 * Math.cos(3.07246871620 + 31749.2351907264 * t);
-        Z1 += 0.00000001734 * Math.cos(3.48012770286 + 51066.427731055 * t);
-        Z1 += 0.00000001256 * Math.cos(5.97163248139 + 234791.12827416777 * t);
-        Z1 += 0.00000000919 * Math.cos(2.20247811299 + 51116.4243529592 * t);
-        Z1 += 0.00000000893 * Math.cos(2.83549644335 + 1109.3785520934 * t);
-        Z1 += 0.00000000834 * Math.cos(0.65008044610 + 25028.521211385 * t);
-        Z1 += 0.00000000706 * Math.cos(4.09989437475 + 21535.9496445154 * t);
-        Z1 += 0.00000000549 * Math.cos(4.55772827645 + 27043.5028831828 * t);
-        Z1 += 0.00000000599 * Math.cos(1.30707878411 + 5661.3320491522 * t);
-        Z1 += 0.00000000503 * Math.cos(0.26513156342 + 77154.33087262919 * t);
-        Z1 += 0.00000000573 * Math.cos(4.27226335442 + 1059.3819301892 * t);
-        Z1 += 0.00000000395 * Math.cos(4.32073156427 + 47623.8527860896 * t);
-        Z1 += 0.00000000390 * Math.cos(3.05829239675 + 26107.57290247399 * t);
-        Z1 += 0.00000000370 * Math.cos(0.26188837520 + 79373.08797681599 * t);
-        Z1 += 0.00000000365 * Math.cos(0.25587601358 + 529.6909650946 * t);
-        Z1 += 0.00000000342 * Math.cos(0.06201621683 + 57837.1383323006 * t);
-        Z1 += 0.00000000338 * Math.cos(2.74361031332 + 260879.03141574195 * t);
-        Z1 += 0.00000000319 * Math.cos(4.06638794904 + 26068.2333806744 * t);
-        Z1 += 0.00000000347 * Math.cos(5.42940711986 + 37410.5672398786 * t);
-        Z1 += 0.00000000329 * Math.cos(2.57908142670 + 25132.3033999656 * t);
-        Z1 += 0.00000000282 * Math.cos(0.72426739653 + 46514.4742339962 * t);
-        Z1 += 0.00000000303 * Math.cos(2.97597780334 + 30639.856638633 * t);
-        Z1 += 0.00000000326 * Math.cos(3.09888267640 + 20426.571092422 * t);
-        Z1 += 0.00000000283 * Math.cos(6.18870391394 + 1589.0728952838 * t);
-        Z1 += 0.00000000315 * Math.cos(5.97732845019 + 26084.0218062162 * t);
-        Z1 += 0.00000000267 * Math.cos(3.50170128183 + 25558.2121764796 * t);
-        Z1 += 0.00000000236 * Math.cos(1.57642784422 + 27147.28507176339 * t);
-        Z1 += 0.00000000267 * Math.cos(1.13990449748 + 26091.7844769322 * t);
-        Z1 += 0.00000000235 * Math.cos(1.49701289406 + 14765.2390432698 * t);
-        Z1 += 0.00000000232 * Math.cos(2.69589305138 + 10213.285546211 * t);
-        Z1 += 0.00000000236 * Math.cos(2.22525353065 + 4551.9534970588 * t);
-        Z1 += 0.00000000194 * Math.cos(1.02173542846 + 50586.73338786459 * t);
-        Z1 += 0.00000000175 * Math.cos(0.12964063811 + 28306.66024576099 * t);
-        Z1 += 0.00000000158 * Math.cos(4.72011691978 + 13521.7514415914 * t);
-        Z1 += 0.00000000148 * Math.cos(0.50941562343 + 23869.1460373874 * t);
-        Z1 += 0.00000000146 * Math.cos(3.32809085248 + 103242.23401420339 * t);
-        Z1 += 0.00000000148 * Math.cos(2.67606270632 + 32858.61374281979 * t);
-        Z1 += 0.00000000148 * Math.cos(3.97558333546 + 26617.5941066688 * t);
-        Z1 += 0.00000000144 * Math.cos(6.17471854034 + 39609.6545831656 * t);
-        Z1 += 0.00000000135 * Math.cos(5.29023702746 + 15874.6175953632 * t);
-        Z1 += 0.00000000127 * Math.cos(1.74708107452 + 41962.5207369374 * t);
-        Z1 += 0.00000000167 * Math.cos(1.41845890576 + 53131.406024757 * t);
-        Z1 += 0.00000000142 * Math.cos(5.51538705616 + 77204.32749453338 * t);
-        Z1 += 0.00000000143 * Math.cos(5.60549263164 + 25661.3049506982 * t);
-        Z1 += 0.00000000135 * Math.cos(4.51294119590 + 22645.32819660879 * t);
-        Z1 += 0.00000000114 * Math.cos(1.61571061542 + 51749.20809227239 * t);
-        Z1 += 0.00000000136 * Math.cos(2.44803626803 + 24498.8302462904 * t);
-        Z1 += 0.00000000123 * Math.cos(2.92199816754 + 7.1135470008 * t);
-        Z1 += 0.00000000111 * Math.cos(5.61693406682 + 51220.20654153979 * t);
-        Z1 += 0.00000000128 * Math.cos(4.16885336182 + 19317.1925403286 * t);
-        Z1 += 0.00000000119 * Math.cos(3.89351050712 + 72602.37737557039 * t);
-        Z1 += 0.00000000105 * Math.cos(2.35643129018 + 63498.47038145279 * t);
-        Z1 += 0.00000000108 * Math.cos(2.29989754953 + 19804.8272915828 * t);
-        Z1 += 0.00000000118 * Math.cos(5.34899821984 + 9103.9069941176 * t);
-        Z1 += 0.00000000131 * Math.cos(5.10396827386 + 51646.11531805379 * t);
-        Z1 += 0.00000000090 * Math.cos(3.10411714137 + 29530.4780865396 * t);
-        Z1 += 0.00000000102 * Math.cos(1.51408473952 + 43071.8992890308 * t);
-        Z1 += 0.00000000099 * Math.cos(2.91528801994 + 3442.5749449654 * t);
-        Z1 += 0.00000000083 * Math.cos(4.86155505530 + 53235.18821333759 * t);
-        Z1 += 0.00000000091 * Math.cos(5.79825387142 + 286966.93455731616 * t);
-        Z1 += 0.00000000077 * Math.cos(1.85515220962 + 1066.49547719 * t);
-        Z1 += 0.00000000086 * Math.cos(1.26853285597 + 52705.49724824299 * t);
-        Z1 += 0.00000000087 * Math.cos(0.72759501705 + 955.5997416086 * t);
-        Z1 += 0.00000000085 * Math.cos(4.42703723237 + 639.897286314 * t);
-        Z1 += 0.00000000071 * Math.cos(6.10725384639 + 52195.47604404819 * t);
-        Z1 += 0.00000000069 * Math.cos(1.67616660064 + 11322.6640983044 * t);
-        Z1 += 0.00000000075 * Math.cos(2.39295477917 + 1052.2683831884 * t);
-        Z1 += 0.00000000070 * Math.cos(1.30207069777 + 73711.75592766379 * t);
-        Z1 += 0.00000000081 * Math.cos(0.50340529337 + 12566.1516999828 * t);
-        Z1 += 0.00000000087 * Math.cos(6.02618346605 + 56727.7597802072 * t);
-        Z1 += 0.00000000064 * Math.cos(2.37390283244 + 6283.0758499914 * t);
-        Z1 += 0.00000000074 * Math.cos(0.83774903676 + 52156.1365222486 * t);
-        Z1 += 0.00000000062 * Math.cos(0.53772034528 + 25035.6347583858 * t);
-        Z1 += 0.00000000062 * Math.cos(5.21607078985 + 213.299095438 * t);
-        Z1 += 0.00000000055 * Math.cos(3.37388306274 + 54394.56338733519 * t);
-        Z1 += 0.00000000072 * Math.cos(5.15200652842 + 6770.7106012456 * t);
-        Z1 += 0.00000000058 * Math.cos(2.74579734777 + 52171.9249477904 * t);
-        Z1 += 0.00000000053 * Math.cos(3.37195010831 + 105460.99111839019 * t);
-        Z1 += 0.00000000054 * Math.cos(3.13274907598 + 16983.9961474566 * t);
-        Z1 += 0.00000000057 * Math.cos(4.55150471829 + 40853.142184844 * t);
-        Z1 += 0.00000000052 * Math.cos(1.08065292487 + 25021.4076643842 * t);
-        Z1 += 0.00000000057 * Math.cos(2.75679326163 + 27676.976036858 * t);
-        Z1 += 0.00000000050 * Math.cos(2.66709856718 + 2218.7571041868 * t);
-        Z1 += 0.00000000048 * Math.cos(2.42991055784 + 51535.90899683439 * t);
-        Z1 += 0.00000000044 * Math.cos(3.39778429468 + 52168.69273614759 * t);
-        Z1 += 0.00000000061 * Math.cos(4.19872301893 + 52179.6876185064 * t);
-        Z1 += 0.00000000055 * Math.cos(4.79861662627 + 25448.00585526019 * t);
-        Z1 += 0.00000000057 * Math.cos(5.98485072073 + 58946.51688439399 * t);
-        Z1 += 0.00000000043 * Math.cos(0.10468670721 + 129330.13715577759 * t);
-        Z1 += 0.00000000046 * Math.cos(3.95713790204 + 76674.63652943878 * t);
-        Z1 += 0.00000000048 * Math.cos(0.56028391393 + 2118.7638603784 * t);
-        Z1 += 0.00000000054 * Math.cos(6.03589506827 + 26080.78959457339 * t);
-        Z1 += 0.00000000052 * Math.cos(5.90025920123 + 26095.016688575 * t);
-        Z1 += 0.00000000047 * Math.cos(3.30474983516 + 25874.6040461362 * t);
-        Z1 += 0.00000000039 * Math.cos(1.38925724838 + 26301.2022370122 * t);
-        Z1 += 0.00000000038 * Math.cos(5.10867352468 + 51109.31080595839 * t);
-        Z1 += 0.00000000039 * Math.cos(3.92764341118 + 48733.23133818299 * t);
-        Z1 += 0.00000000037 * Math.cos(4.06335565460 + 38654.05484155699 * t);
-        Z1 += 0.00000000036 * Math.cos(2.58651261399 + 33326.5787331742 * t);
-        Z1 += 0.00000000036 * Math.cos(2.37849808537 + 77308.10968311399 * t);
-        Z1 += 0.00000000035 * Math.cos(2.51199649101 + 110012.94461544899 * t);
-        Z1 += 0.00000000042 * Math.cos(5.12550293524 + 18849.2275499742 * t);
-        Z1 += 0.00000000036 * Math.cos(3.01544789695 + 65697.55772473979 * t);
-        Z1 += 0.00000000034 * Math.cos(3.58250413994 + 49957.0491789616 * t);
-        Z1 += 0.00000000038 * Math.cos(5.08242945191 + 426.598190876 * t);
-        Z1 += 0.00000000033 * Math.cos(2.98998399815 + 52182.9198301492 * t);
-        Z1 += 0.00000000035 * Math.cos(4.81500543604 + 69159.80243060499 * t);
-        Z1 += 0.00000000030 * Math.cos(2.26689961718 + 26514.5013324502 * t);
-        Z1 += 0.00000000041 * Math.cos(0.69895535280 + 98690.28051714458 * t);
-        Z1 += 0.00000000030 * Math.cos(5.32057648028 + 59414.4818747484 * t);
-        Z1 += 0.00000000028 * Math.cos(1.68266249602 + 13655.8604911764 * t);
-        Z1 += 0.00000000028 * Math.cos(0.94446303339 + 45405.0956819028 * t);
-        Z1 += 0.00000000027 * Math.cos(4.36683104110 + 45892.73043315699 * t);
-        Z1 += 0.00000000029 * Math.cos(0.10950522744 + 32370.9789915656 * t);
-        Z1 += 0.00000000033 * Math.cos(4.33155420786 + 78793.40038981718 * t);
-        Z1 += 0.00000000034 * Math.cos(4.98037524090 + 83925.04147387479 * t);
-        Z1 += 0.00000000023 * Math.cos(5.02100001952 + 38519.945791972 * t);
-        Z1 += 0.00000000027 * Math.cos(2.80994919073 + 82815.66292178139 * t);
-        Z1 += 0.00000000028 * Math.cos(1.74282790985 + 79323.09135491178 * t);
-        Z1 += 0.00000000027 * Math.cos(0.28076690940 + 50057.04242277 * t);
-        Z1 += 0.00000000030 * Math.cos(4.47636450035 + 51123.53789995999 * t);
-        Z1 += 0.00000000022 * Math.cos(5.48879950844 + 433.7117378768 * t);
-        Z1 += 0.00000000023 * Math.cos(2.29729212380 + 25934.1243310894 * t);
-        Z1 += 0.00000000021 * Math.cos(6.12545300745 + 55618.3812281138 * t);
-        Z1 += 0.00000000028 * Math.cos(1.99718125621 + 23969.1392811958 * t);
-        Z1 += 0.00000000020 * Math.cos(5.02045625760 + 62389.09182935939 * t);
-        Z1 += 0.00000000027 * Math.cos(5.94991611742 + 36301.18868778519 * t);
-        Z1 += 0.00000000021 * Math.cos(6.11796766629 + 419.4846438752 * t);
-        Z1 += 0.00000000025 * Math.cos(3.81085583999 + 103292.23063610759 * t);
-        Z1 += 0.00000000022 * Math.cos(5.11742565391 + 52389.1053785864 * t);
-        Z1 += 0.00000000024 * Math.cos(2.56844167585 + 313054.83769889036 * t);
-        Z1 += 0.00000000018 * Math.cos(1.14666568569 + 12432.0426503978 * t);
-        Z1 += 0.00000000021 * Math.cos(4.43914073078 + 79219.30916633119 * t);
-        Z1 += 0.00000000017 * Math.cos(1.26846398958 + 129380.13377768178 * t);
-        Z1 += 0.00000000018 * Math.cos(4.35450426346 + 23754.70674870219 * t);
-        Z1 += 0.00000000016 * Math.cos(3.43674109707 + 25654.19140369739 * t);
-        Z1 += 0.00000000017 * Math.cos(1.21295214728 + 25619.9381512198 * t);
-        Z1 += 0.00000000017 * Math.cos(4.88341452559 + 77837.11123384659 * t);
-        Z1 += 0.00000000017 * Math.cos(5.64525452444 + 136100.84775702319 * t);
-        Z1 += 0.00000000020 * Math.cos(1.45417843599 + 66941.04532641819 * t);
-        Z1 += 0.00000000014 * Math.cos(5.44182921160 + 89586.37352302698 * t);
-        Z1 += 0.00000000018 * Math.cos(2.83938591200 + 25668.418497699 * t);
-        Z1 += 0.00000000018 * Math.cos(3.80808950852 + 25973.46385288896 * t);
-        Z1 += 0.00000000014 * Math.cos(2.87427500051 + 78283.37918562238 * t);
-        Z1 += 0.00000000015 * Math.cos(1.23233013937 + 26727.8004278882 * t);
-        Z1 += 0.00000000014 * Math.cos(2.46376055999 + 1596.1864422846 * t);
-        Z1 += 0.00000000019 * Math.cos(3.89131231180 + 78244.0396638228 * t);
-        Z1 += 0.00000000016 * Math.cos(3.64255427035 + 853.196381752 * t);
-        Z1 += 0.00000000015 * Math.cos(0.97248576911 + 78267.59076008058 * t);
-        Z1 += 0.00000000013 * Math.cos(4.95074075966 + 27154.3986187642 * t);
-        Z1 += 0.00000000017 * Math.cos(5.83556508068 + 53764.8791784322 * t);
-        Z1 += 0.00000000012 * Math.cos(3.15781754753 + 155418.04029735178 * t);
-        Z1 += 0.00000000015 * Math.cos(1.91063402672 + 44937.1306915484 * t);
-        Z1 += 0.00000000016 * Math.cos(3.31784437154 + 26202.34243025941 * t);
-        Z1 += 0.00000000012 * Math.cos(5.79880666801 + 78259.82808936459 * t);
-        Z1 += 0.00000000012 * Math.cos(0.78485262110 + 51962.5071877104 * t);
-        Z1 += 0.00000000015 * Math.cos(1.11484431483 + 74821.13447975718 * t);
-        Z1 += 0.00000000014 * Math.cos(3.77122510089 + 124778.18365871879 * t);
-        Z1 += 0.00000000012 * Math.cos(4.34152068071 + 94138.32702008578 * t);
-        Z1 += 0.00000000013 * Math.cos(0.98498982943 + 64741.95798313119 * t);
-        Z1 += 0.00000000011 * Math.cos(0.01126157685 + 80482.46652890938 * t);
-        Z1 += 0.00000000012 * Math.cos(5.38061503044 + 52602.4044740244 * t);
-        Z1 += 0.00000000011 * Math.cos(5.42471517163 + 103396.01282468818 * t);
-        Z1 += 0.00000000011 * Math.cos(1.92091833374 + 77197.21394753258 * t);
-        Z1 += 0.00000000011 * Math.cos(2.51043583674 + 77734.01845962799 * t);
-        Z1 += 0.00000000012 * Math.cos(5.59878501315 + 77623.81213840858 * t);
-        Z1 += 0.00000000012 * Math.cos(0.20589141568 + 78256.59587772179 * t);
-        Z1 += 0.00000000013 * Math.cos(3.17586650226 + 28421.0995344462 * t);
-        Z1 += 0.00000000010 * Math.cos(4.05322231768 + 26241.681952059 * t);
-        Z1 += 0.00000000010 * Math.cos(1.39265587740 + 51742.09454527159 * t);
-        Z1 += 0.00000000010 * Math.cos(6.08175105796 + 78270.82297172339 * t);
-        Z1 += 0.00000000011 * Math.cos(2.69589922169 + 26137.8997634784 * t);
-        Z1 += 0.00000000010 * Math.cos(3.07928279036 + 2333.196392872 * t);
-        Z1 += 0.00000000011 * Math.cos(0.30468128561 + 68050.42387851159 * t);
-        Z1 += 0.00000000009 * Math.cos(5.53388738438 + 7994.5284420242 * t);
-        Z1 += 0.00000000011 * Math.cos(1.08579591854 + 104881.30353139139 * t);
-        Z1 += 0.00000000009 * Math.cos(0.40604041041 + 24491.71669928959 * t);
-        Z1 += 0.00000000011 * Math.cos(1.95060315202 + 1581.959348283 * t);
-        Z1 += 0.00000000010 * Math.cos(1.36389391290 + 77211.44104153418 * t);
-        Z1 += 0.00000000011 * Math.cos(2.39071740763 + 64607.84893354619 * t);
-        Z1 += 0.00000000009 * Math.cos(1.91392780093 + 88476.99497093359 * t);
-        Z1 += 0.00000000008 * Math.cos(4.69235988049 + 536.8045120954 * t);
-        Z1 += 0.00000000008 * Math.cos(4.94434306289 + 632.7837393132 * t);
-        Z1 += 0.00000000009 * Math.cos(0.35558235819 + 76044.9523205358 * t);
-        Z1 += 0.00000000009 * Math.cos(4.46490542313 + 26037.90651966999 * t);
-        Z1 += 0.00000000008 * Math.cos(0.49047863023 + 102762.53967101299 * t);
-        Z1 += 0.00000000008 * Math.cos(5.85483327203 + 108903.56606335558 * t);
-        Z1 += 0.00000000008 * Math.cos(4.03785547628 + 71492.99882347698 * t);
-        Z1 += 0.00000000009 * Math.cos(4.85229479056 + 105410.99449648599 * t);
-        Z1 += 0.00000000009 * Math.cos(2.51175483230 + 85034.42002596818 * t);
-        Z1 += 0.00000000008 * Math.cos(0.01221598580 + 5327.4761083828 * t);
-        Z1 += 0.00000000007 * Math.cos(5.78988808042 + 26555.8681319286 * t);
-        Z1 += 0.00000000007 * Math.cos(4.27853212968 + 18207.81398823521 * t);
-        Z1 += 0.00000000007 * Math.cos(2.02962199178 + 78477.00852016058 * t);
-        Z1 += 0.00000000007 * Math.cos(3.20780787297 + 18093.37469954999 * t);
-        Z1 += 0.00000000007 * Math.cos(3.29917452925 + 51322.60990139639 * t);
-        Z1 += 0.00000000008 * Math.cos(4.46683241624 + 155468.03691925599 * t);
-        Z1 += 0.00000000007 * Math.cos(4.04442368573 + 25455.119402261 * t);
-        Z1 += 0.00000000007 * Math.cos(0.70887703358 + 24505.94379329119 * t);
-        Z1 += 0.00000000008 * Math.cos(3.50499122731 + 28206.6670019526 * t);
-        Z1 += 0.00000000009 * Math.cos(5.55849714525 + 27140.17152476259 * t);
-        Z1 += 0.00000000007 * Math.cos(3.67689450101 + 125887.56221081219 * t);
-        Z1 += 0.00000000008 * Math.cos(3.21701385277 + 76144.94556434419 * t);
-        Z1 += 0.00000000007 * Math.cos(4.49386341300 + 50579.61984086379 * t);
-        Z1 += 0.00000000007 * Math.cos(3.33858090062 + 58458.88213313979 * t);
-        Z1 += 0.00000000008 * Math.cos(1.14310455995 + 103821.92160120218 * t);
-        Z1 += 0.00000000008 * Math.cos(5.48340707498 + 25234.70675982219 * t);
-        Z1 += 0.00000000008 * Math.cos(0.66014034660 + 51756.3216392732 * t);
-        Z1 += 0.00000000007 * Math.cos(0.91622586929 + 46848.3301747656 * t);
-        Z1 += 0.00000000006 * Math.cos(4.71362239722 + 647.0108333148 * t);
-        Z1 += 0.00000000006 * Math.cos(2.84816755580 + 81706.28436968799 * t);
-        Z1 += 0.00000000008 * Math.cos(0.54081102339 + 35191.8101356918 * t);
-        Z1 += 0.00000000007 * Math.cos(5.97950952528 + 99799.65906923798 * t);
-        Z1 += 0.00000000007 * Math.cos(5.59806550392 + 339142.74084046457 * t);
-        Z1 += 0.00000000008 * Math.cos(2.06065598813 + 71980.63357473118 * t);
-        Z1 += 0.00000000007 * Math.cos(2.35899025407 + 33967.99229491319 * t);
-        Z1 += 0.00000000006 * Math.cos(4.54497734613 + 93028.94846799239 * t);
-        Z1 += 0.00000000005 * Math.cos(4.96809690798 + 52026.2430860138 * t);
-        Z1 += 0.00000000006 * Math.cos(1.23723826618 + 44181.27784112419 * t);
-        Z1 += 0.00000000006 * Math.cos(1.22067313314 + 120226.23016165999 * t);
-        Z1 += 0.00000000006 * Math.cos(1.20900133400 + 2648.454825473 * t);
-        Z1 += 0.00000000005 * Math.cos(3.28690720493 + 25938.3399444396 * t);
-        Z1 += 0.00000000005 * Math.cos(4.99695296239 + 71025.03383312259 * t);
-        Z1 += 0.00000000005 * Math.cos(3.80540207824 + 78050.41032928458 * t);
-        Z1 += 0.00000000006 * Math.cos(2.46355111951 + 162188.75089859738 * t);
-        Z1 += 0.00000000005 * Math.cos(5.46272081654 + 26610.48055966799 * t);
-        Z1 += 0.00000000005 * Math.cos(0.63510871716 + 104331.94280539699 * t);
-        Z1 += 0.00000000004 * Math.cos(5.71678194245 + 98068.53671630539 * t);
-        Z1 += 0.00000000004 * Math.cos(3.52099164933 + 26507.38778544939 * t);
-        Z1 += 0.00000000004 * Math.cos(5.31353397656 + 117873.36400788819 * t);
-        Z1 += 0.00000000004 * Math.cos(5.13194743371 + 7880.08915333899 * t);
-        Z1 += 0.00000000005 * Math.cos(1.63217415397 + 91785.46086631398 * t);
-        Z1 += 0.00000000004 * Math.cos(4.85259057218 + 50593.84693486539 * t);
-        Z1 += 0.00000000004 * Math.cos(3.58205868095 + 45494.58142974879 * t);
-        Z1 += 0.00000000004 * Math.cos(0.56456514853 + 150866.08680029298 * t);
-        Z1 += 0.00000000004 * Math.cos(4.05482156113 + 104355.49390165479 * t);
-        Z1 += 0.00000000005 * Math.cos(4.31294151281 + 10021.8372800994 * t);
-        Z1 += 0.00000000005 * Math.cos(0.67943011611 + 522.5774180938 * t);
-        Z1 += 0.00000000004 * Math.cos(0.78297474988 + 26081.27458267419 * t);
-        Z1 += 0.00000000005 * Math.cos(2.59888164869 + 79852.78232000639 * t);
-        Z1 += 0.00000000004 * Math.cos(4.42615122275 + 52815.7035694624 * t);
-        Z1 += 0.00000000004 * Math.cos(4.38434908977 + 129909.82474277639 * t);
-        Z1 += 0.00000000004 * Math.cos(4.52782207994 + 39743.7636327506 * t);
-        Z1 += 0.00000000004 * Math.cos(2.20941190445 + 26521.614879451 * t);
-        Z1 += 0.00000000005 * Math.cos(5.32700006988 + 25551.09862947879 * t);
-        Z1 += 0.00000000004 * Math.cos(0.64407233905 + 22759.76748529401 * t);
-        Z1 += 0.00000000004 * Math.cos(0.87584552144 + 95247.70557217918 * t);
-        Z1 += 0.00000000004 * Math.cos(2.22216873998 + 51639.00177105299 * t);
-        Z1 += 0.00000000003 * Math.cos(5.36514246733 + 52099.5402118728 * t);
-        Z1 += 0.00000000003 * Math.cos(4.57090150345 + 103299.34418310839 * t);
-        Z1 += 0.00000000004 * Math.cos(4.07559367157 + 130969.20667296558 * t);
-        Z1 += 0.00000000004 * Math.cos(1.99404423656 + 53242.3017603384 * t);
-        Z1 += 0.00000000004 * Math.cos(0.10237777214 + 52290.24557183361 * t);
-        Z1 += 0.00000000003 * Math.cos(2.16782942564 + 129483.91596626239 * t);
-        Z1 += 0.00000000003 * Math.cos(3.70439682827 + 26011.6370702986 * t);
-        Z1 += 0.00000000004 * Math.cos(6.19007910993 + 181505.94343892598 * t);
-        Z1 += 0.00000000003 * Math.cos(3.38593366707 + 22747.2907148744 * t);
-        Z1 += 0.00000000004 * Math.cos(4.13509939102 + 90829.86112470538 * t);
-        Z1 += 0.00000000004 * Math.cos(3.81107948599 + 7238.67559160 * t);
-        Z1 += 0.00000000004 * Math.cos(2.22487204858 + 78690.30761559859 * t);
-        Z1 += 0.00000000003 * Math.cos(2.90685522022 + 104358.72611329758 * t);
-        Z1 += 0.00000000004 * Math.cos(0.21293011176 + 29416.03879785439 * t);
-        Z1 += 0.00000000004 * Math.cos(4.66094846706 + 26190.99591579279 * t);
-        Z1 += 0.00000000004 * Math.cos(1.44138552313 + 52329.58509363319 * t);
-        Z1 += 0.00000000003 * Math.cos(3.88120838753 + 24864.08530079559 * t);
-        Z1 += 0.00000000003 * Math.cos(3.23195009997 + 27311.72098235281 * t);
-        Z1 += 0.00000000003 * Math.cos(0.59206616691 + 151975.46535238638 * t);
-        Z1 += 0.00000000004 * Math.cos(3.92282949127 + 26094.53170047421 * t);
-        Z1 += 0.00000000004 * Math.cos(0.36706915227 + 26624.70765366959 * t);
-        Z1 += 0.00000000003 * Math.cos(5.02263365854 + 13362.4497067992 * t);
-        Z1 += 0.00000000003 * Math.cos(4.48812754789 + 77829.99768684579 * t);
-        Z1 += 0.00000000003 * Math.cos(1.61364456756 + 131498.89763806018 * t);
-        Z1 += 0.00000000003 * Math.cos(2.35918530711 + 53228.07466633679 * t);
-        Z1 += 0.00000000003 * Math.cos(6.23943631292 + 54509.0026760204 * t);
-        Z1 += 0.00000000003 * Math.cos(5.96454474491 + 104371.28232719658 * t);
-        Z1 += 0.00000000004 * Math.cos(2.69614750910 + 42153.969003049 * t);
-        Z1 += 0.00000000004 * Math.cos(5.02476392638 + 114564.89811250778 * t);
-        Z1 += 0.00000000003 * Math.cos(1.72345770389 + 20760.4270331914 * t);
-        Z1 += 0.00000000003 * Math.cos(0.50072748279 + 26941.0995233262 * t);
-        Z1 += 0.00000000003 * Math.cos(1.96977611447 + 25565.3257234804 * t);
-        Z1 += 0.00000000003 * Math.cos(5.11624187785 + 206.1855484372 * t);
-        Z1 += 0.00000000003 * Math.cos(0.51349992272 + 131548.89425996438 * t);
-        Z1 += 0.00000000003 * Math.cos(3.95256477489 + 77844.22478084739 * t);
-        Z1 += 0.00000000002 * Math.cos(5.27163804648 + 104564.91166173479 * t);
-        Z1 += 0.00000000002 * Math.cos(0.91771435129 + 97580.90196505119 * t);
-        Z1 += 0.00000000003 * Math.cos(6.19741175627 + 1478.8665740644 * t);
-        Z1 += 0.00000000002 * Math.cos(5.59272300692 + 27684.0895838588 * t);
-        Z1 += 0.00000000003 * Math.cos(0.49620259289 + 84546.78527471398 * t);
-        Z1 += 0.00000000003 * Math.cos(0.55085259267 + 52061.36699446317 * t);
-        Z1 += 0.00000000003 * Math.cos(3.60660500687 + 90695.75207512038 * t);
-        Z1 += 0.00000000003 * Math.cos(2.55821625518 + 103711.71527998279 * t);
-        Z1 += 0.00000000002 * Math.cos(4.99656134147 + 103285.11708910679 * t);
-        Z1 += 0.00000000003 * Math.cos(6.09360707526 + 3340.6124266998 * t);
-        Z1 += 0.00000000003 * Math.cos(5.65125942893 + 52022.0274726636 * t);
-        Z1 += 0.00000000003 * Math.cos(3.20289240295 + 106570.36967048359 * t);
-        Z1 += 0.00000000003 * Math.cos(2.51813838035 + 100909.03762133139 * t);
-        Z1 += 0.00000000003 * Math.cos(2.68010870521 + 52643.7712735028 * t);
-        Z1 += 0.00000000002 * Math.cos(2.44153022122 + 6681.2248533996 * t);
-        Z1 += 0.00000000003 * Math.cos(5.92095118575 + 49527.35145767539 * t);
-        Z1 += 0.00000000002 * Math.cos(6.16203356882 + 157636.79740153858 * t);
-        Z1 += 0.00000000003 * Math.cos(1.36500275259 + 181555.94006083018 * t);
-        Z1 += 0.00000000002 * Math.cos(6.07006355391 + 111122.32316754239 * t);
-        Z1 += 0.00000000002 * Math.cos(1.23018945268 + 51543.0225438352 * t);
-        Z1 += 0.00000000003 * Math.cos(1.60593056043 + 149.5631971346 * t);
-        Z1 += 0.00000000002 * Math.cos(5.44832173338 + 188276.65404017158 * t);
-        Z1 += 0.00000000002 * Math.cos(3.35555846135 + 104344.49901929598 * t);
-        Z1 += 0.00000000002 * Math.cos(1.11410400334 + 31415.379249957 * t);
-        Z1 += 0.00000000003 * Math.cos(3.45570860970 + 102132.85546210999 * t);
-        Z1 += 0.00000000002 * Math.cos(1.24196977449 + 52125.80966124419 * t);
-        Z1 += 0.00000000003 * Math.cos(3.25629749382 + 103925.01437542078 * t);
-        Z1 += 0.00000000002 * Math.cos(3.48238572047 + 25881.717593137 * t);
-        Z1 += 0.00000000002 * Math.cos(2.46677138393 + 3328.13565628019 * t);
-        Z1 += 0.00000000002 * Math.cos(2.20368175695 + 143961.26714946238 * t);
-        Z1 += 0.00000000002 * Math.cos(4.84459398809 + 70269.18098269838 * t);
-        Z1 += 0.00000000002 * Math.cos(1.68083413322 + 25984.8103673556 * t);
-        Z1 += 0.00000000003 * Math.cos(5.26458846607 + 60055.89543648739 * t);
-        Z1 += 0.00000000002 * Math.cos(2.45157941038 + 52698.38370124219 * t);
-        Z1 += 0.00000000002 * Math.cos(0.78207794200 + 130012.91751699499 * t);
-        Z1 += 0.00000000002 * Math.cos(0.98920727566 + 76.2660712756 * t);
-        Z1 += 0.00000000002 * Math.cos(3.92568245374 + 956.2891559706 * t);
-        Z1 += 0.00000000002 * Math.cos(2.65082246284 + 11610.5519583742 * t);
-        Z1 += 0.00000000002 * Math.cos(2.68749814956 + 124156.43985787958 * t);
-        Z1 += 0.00000000002 * Math.cos(4.33665959283 + 146314.13330323418 * t);
-        Z1 += 0.00000000002 * Math.cos(0.15981568000 + 77410.51304297059 * t);
-        Z1 += 0.00000000002 * Math.cos(0.32248774042 + 155997.72788435058 * t);
-        Z1 += 0.00000000002 * Math.cos(6.12803752756 + 104138.31347085879 * t);
-        Z1 += 0.00000000002 * Math.cos(0.21368583386 + 54294.57014352679 * t);
-        Z1 += 0.00000000002 * Math.cos(0.65535255591 + 1162.4747044078 * t);
-        Z1 += 0.00000000002 * Math.cos(3.29929774684 + 128850.44281258718 * t);
-        Z1 += 0.00000000002 * Math.cos(2.01772381418 + 134991.46920492979 * t);
-        Z1 += 0.00000000002 * Math.cos(5.39328391253 + 32769.1279949738 * t);
-        Z1 += 0.00000000001 * Math.cos(4.12045734648 + 25440.89230825939 * t);
-        Z1 += 0.00000000002 * Math.cos(5.86068713588 + 16066.0658614748 * t);
-        Z1 += 0.00000000001 * Math.cos(6.27237588760 + 105940.68546158058 * t);
-        Z1 += 0.00000000001 * Math.cos(1.18539094152 + 12546.481939083 * t);
-        Z1 += 0.00000000001 * Math.cos(1.60398831894 + 26294.08869001139 * t);
-        Z1 += 0.00000000001 * Math.cos(3.99060758894 + 25867.49049913539 * t);
-        Z1 += 0.00000000002 * Math.cos(2.21751883952 + 103.0927742186 * t);
-        Z1 += 0.00000000002 * Math.cos(1.60021595888 + 51528.79544983359 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 143 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00001053118 * Math.cos(5.37979214357 + 26087.9031415742 * t);
-        Z2 += 0.00001185024;
-        Z2 += 0.00000087113 * Math.cos(0.42206932430 + 52175.8062831484 * t);
-        Z2 += 0.00000049534 * Math.cos(4.38054039769 + 78263.70942472259 * t);
-        Z2 += 0.00000025685 * Math.cos(1.45827443162 + 104351.61256629678 * t);
-        Z2 += 0.00000010457 * Math.cos(4.62224691737 + 130439.51570787099 * t);
-        Z2 += 0.00000003757 * Math.cos(1.44589954776 + 156527.41884944518 * t);
-        Z2 += 0.00000001259 * Math.cos(4.52974728932 + 182615.32199101939 * t);
-        Z2 += 0.00000000405 * Math.cos(1.31903942108 + 208703.22513259358 * t);
-        Z2 += 0.00000000510 * Math.cos(2.02741559889 + 27197.2816936676 * t);
-        Z2 += 0.00000000194 * Math.cos(4.84656399029 + 24978.5245894808 * t);
-        Z2 += 0.00000000126 * Math.cos(4.38484918485 + 234791.12827416777 * t);
-        Z2 += 0.00000000084 * Math.cos(5.13112206401 + 53285.1848352418 * t);
-        Z2 += 0.00000000081 * Math.cos(1.77991669334 + 51066.427731055 * t);
-        Z2 += 0.00000000041 * Math.cos(5.92878165673 + 21535.9496445154 * t);
-        Z2 += 0.00000000038 * Math.cos(4.59494089680 + 31749.2351907264 * t);
-        Z2 += 0.00000000039 * Math.cos(1.16389533568 + 260879.03141574195 * t);
-        Z2 += 0.00000000031 * Math.cos(5.70517746266 + 27043.5028831828 * t);
-        Z2 += 0.00000000031 * Math.cos(4.90092982476 + 77154.33087262919 * t);
-        Z2 += 0.00000000025 * Math.cos(3.42051368965 + 51116.4243529592 * t);
-        Z2 += 0.00000000023 * Math.cos(5.12888703467 + 1109.3785520934 * t);
-        Z2 += 0.00000000020 * Math.cos(5.51663618269 + 529.6909650946 * t);
-        Z2 += 0.00000000016 * Math.cos(1.90390313968 + 28306.66024576099 * t);
-        Z2 += 0.00000000020 * Math.cos(0.17917379064 + 25028.521211385 * t);
-        Z2 += 0.00000000015 * Math.cos(1.05701795325 + 20426.571092422 * t);
-        Z2 += 0.00000000013 * Math.cos(1.81822077884 + 25132.3033999656 * t);
-        Z2 += 0.00000000012 * Math.cos(5.73430455559 + 22645.32819660879 * t);
-        Z2 += 0.00000000011 * Math.cos(5.17414328474 + 23869.1460373874 * t);
-        Z2 += 0.00000000012 * Math.cos(0.83014470454 + 37410.5672398786 * t);
-        Z2 += 0.00000000011 * Math.cos(1.70573481806 + 103242.23401420339 * t);
-        Z2 += 0.00000000012 * Math.cos(4.22252353447 + 286966.93455731616 * t);
-        Z2 += 0.00000000010 * Math.cos(5.89719716922 + 47623.8527860896 * t);
-        Z2 += 0.00000000010 * Math.cos(6.25321109518 + 4551.9534970588 * t);
-        Z2 += 0.00000000011 * Math.cos(2.38969901037 + 50586.73338786459 * t);
-        Z2 += 0.00000000009 * Math.cos(4.94664962083 + 26107.57290247399 * t);
-        Z2 += 0.00000000009 * Math.cos(1.94242243150 + 79373.08797681599 * t);
-        Z2 += 0.00000000009 * Math.cos(4.50823985532 + 32858.61374281979 * t);
-        Z2 += 0.00000000010 * Math.cos(4.80498005582 + 1589.0728952838 * t);
-        Z2 += 0.00000000010 * Math.cos(3.66489496424 + 25558.2121764796 * t);
-        Z2 += 0.00000000007 * Math.cos(2.38751237733 + 53131.406024757 * t);
-        Z2 += 0.00000000008 * Math.cos(4.77323220031 + 46514.4742339962 * t);
-        Z2 += 0.00000000007 * Math.cos(1.59120637282 + 26084.0218062162 * t);
-        Z2 += 0.00000000007 * Math.cos(5.50461749703 + 14765.2390432698 * t);
-        Z2 += 0.00000000006 * Math.cos(2.44506021688 + 26617.5941066688 * t);
-        Z2 += 0.00000000008 * Math.cos(6.04439838452 + 26068.2333806744 * t);
-        Z2 += 0.00000000006 * Math.cos(5.86363603201 + 25874.6040461362 * t);
-        Z2 += 0.00000000007 * Math.cos(3.11235514306 + 26091.7844769322 * t);
-        Z2 += 0.00000000007 * Math.cos(2.52359174803 + 19317.1925403286 * t);
-        Z2 += 0.00000000006 * Math.cos(2.52692228886 + 213.299095438 * t);
-        Z2 += 0.00000000005 * Math.cos(4.50577216714 + 51220.20654153979 * t);
-        Z2 += 0.00000000006 * Math.cos(5.49024917012 + 25973.46385288896 * t);
-        Z2 += 0.00000000004 * Math.cos(4.99984592617 + 54394.56338733519 * t);
-        Z2 += 0.00000000004 * Math.cos(3.56822908434 + 9103.9069941176 * t);
-        Z2 += 0.00000000005 * Math.cos(3.36356474475 + 43071.8992890308 * t);
-        Z2 += 0.00000000004 * Math.cos(3.41104929582 + 25661.3049506982 * t);
-        Z2 += 0.00000000005 * Math.cos(1.61564484968 + 26202.34243025941 * t);
-        Z2 += 0.00000000004 * Math.cos(2.04986993982 + 72602.37737557039 * t);
-        Z2 += 0.00000000004 * Math.cos(4.78586478582 + 129330.13715577759 * t);
-        Z2 += 0.00000000004 * Math.cos(1.23285415070 + 39609.6545831656 * t);
-        Z2 += 0.00000000004 * Math.cos(1.99566356802 + 26095.016688575 * t);
-        Z2 += 0.00000000004 * Math.cos(1.35380519898 + 29530.4780865396 * t);
-        Z2 += 0.00000000005 * Math.cos(1.23150173506 + 3442.5749449654 * t);
-        Z2 += 0.00000000004 * Math.cos(6.07982863589 + 7.1135470008 * t);
-        Z2 += 0.00000000005 * Math.cos(3.14220892226 + 10213.285546211 * t);
-        Z2 += 0.00000000004 * Math.cos(0.26585418784 + 51646.11531805379 * t);
-        Z2 += 0.00000000004 * Math.cos(2.77782586170 + 41962.5207369374 * t);
-        Z2 += 0.00000000004 * Math.cos(1.09650929108 + 5661.3320491522 * t);
-        Z2 += 0.00000000004 * Math.cos(1.42544654600 + 1059.3819301892 * t);
-        Z2 += 0.00000000003 * Math.cos(1.97577379834 + 49957.0491789616 * t);
-        Z2 += 0.00000000003 * Math.cos(6.02171816863 + 52705.49724824299 * t);
-        Z2 += 0.00000000004 * Math.cos(1.66969189830 + 30639.856638633 * t);
-        Z2 += 0.00000000003 * Math.cos(1.24157422567 + 57837.1383323006 * t);
-        Z2 += 0.00000000004 * Math.cos(2.56870959742 + 639.897286314 * t);
-        Z2 += 0.00000000003 * Math.cos(4.24139247807 + 51535.90899683439 * t);
-        Z2 += 0.00000000003 * Math.cos(3.78980887484 + 1066.49547719 * t);
-        Z2 += 0.00000000003 * Math.cos(4.31183095451 + 2218.7571041868 * t);
-        Z2 += 0.00000000003 * Math.cos(2.71716318847 + 26080.78959457339 * t);
-        Z2 += 0.00000000003 * Math.cos(3.08295372453 + 33326.5787331742 * t);
-        Z2 += 0.00000000003 * Math.cos(2.83124529131 + 40853.142184844 * t);
-        Z2 += 0.00000000003 * Math.cos(3.98094106813 + 63498.47038145279 * t);
-        Z2 += 0.00000000003 * Math.cos(6.11998019073 + 36301.18868778519 * t);
-        Z2 += 0.00000000003 * Math.cos(0.99287952932 + 313054.83769889036 * t);
-        Z2 += 0.00000000003 * Math.cos(4.47232610391 + 24498.8302462904 * t);
-        Z2 += 0.00000000003 * Math.cos(4.39447085694 + 56727.7597802072 * t);
-        Z2 += 0.00000000002 * Math.cos(3.14629176189 + 53235.18821333759 * t);
-        Z2 += 0.00000000003 * Math.cos(1.29496956788 + 58946.51688439399 * t);
-        Z2 += 0.00000000003 * Math.cos(5.78518537876 + 48733.23133818299 * t);
-        Z2 += 0.00000000002 * Math.cos(5.85755018741 + 26301.2022370122 * t);
-        Z2 += 0.00000000002 * Math.cos(2.40580678378 + 6283.0758499914 * t);
-        Z2 += 0.00000000003 * Math.cos(5.69045733615 + 2118.7638603784 * t);
-        Z2 += 0.00000000002 * Math.cos(0.74752177962 + 955.5997416086 * t);
-        Z2 += 0.00000000003 * Math.cos(5.78326807846 + 77204.32749453338 * t);
-        Z2 += 0.00000000002 * Math.cos(3.23521381372 + 16983.9961474566 * t);
-        Z2 += 0.00000000002 * Math.cos(2.51660292710 + 426.598190876 * t);
-        Z2 += 0.00000000002 * Math.cos(0.60194942543 + 38519.945791972 * t);
-        Z2 += 0.00000000002 * Math.cos(4.25397821203 + 1052.2683831884 * t);
-        Z2 += 0.00000000002 * Math.cos(5.22827823253 + 76674.63652943878 * t);
-        Z2 += 0.00000000002 * Math.cos(1.10676834844 + 77308.10968311399 * t);
-        Z2 += 0.00000000002 * Math.cos(5.59153557926 + 23754.70674870219 * t);
-        Z2 += 0.00000000002 * Math.cos(0.11046591263 + 13655.8604911764 * t);
-        Z2 += 0.00000000002 * Math.cos(5.62658768684 + 45405.0956819028 * t);
-        Z2 += 0.00000000002 * Math.cos(4.51918269786 + 15874.6175953632 * t);
-        Z2 += 0.00000000002 * Math.cos(5.81399594028 + 27147.28507176339 * t);
-        Z2 += 0.00000000002 * Math.cos(4.45536988130 + 55618.3812281138 * t);
-        Z2 += 0.00000000002 * Math.cos(1.67886337044 + 103292.23063610759 * t);
-        Z2 += 0.00000000002 * Math.cos(0.80870638069 + 6770.7106012456 * t);
-        Z2 += 0.00000000002 * Math.cos(5.31050462895 + 98690.28051714458 * t);
-        Z2 += 0.00000000002 * Math.cos(1.62830798818 + 50057.04242277 * t);
-        Z2 += 0.00000000001 * Math.cos(6.01789746929 + 25448.00585526019 * t);
-        Z2 += 0.00000000001 * Math.cos(4.78174334560 + 18849.2275499742 * t);
-        Z2 += 0.00000000001 * Math.cos(1.57539135914 + 155418.04029735178 * t);
-        Z2 += 0.00000000002 * Math.cos(2.85669980691 + 78793.40038981718 * t);
-        Z2 += 0.00000000001 * Math.cos(1.75120212864 + 853.196381752 * t);
-        Z2 += 0.00000000001 * Math.cos(5.64239884249 + 26514.5013324502 * t);
-        Z2 += 0.00000000001 * Math.cos(2.84295285158 + 51749.20809227239 * t);
-        Z2 += 0.00000000002 * Math.cos(1.45037370060 + 27676.976036858 * t);
-        Z2 += 0.00000000001 * Math.cos(1.23148841961 + 82815.66292178139 * t);
-        Z2 += 0.00000000001 * Math.cos(3.52678021698 + 13521.7514415914 * t);
-        Z2 += 0.00000000001 * Math.cos(4.70607503583 + 52290.24557183361 * t);
-        Z2 += 0.00000000001 * Math.cos(1.53818723749 + 28421.0995344462 * t);
-        Z2 += 0.00000000001 * Math.cos(0.02671273573 + 79323.09135491178 * t);
-        Z2 += 0.00000000001 * Math.cos(4.97923101690 + 76044.9523205358 * t);
-        Z2 += 0.00000000001 * Math.cos(3.30595716996 + 52389.1053785864 * t);
-        Z2 += 0.00000000001 * Math.cos(1.18548085609 + 124778.18365871879 * t);
-        Z2 += 0.00000000001 * Math.cos(4.58961379543 + 12566.1516999828 * t);
-        Z2 += 0.00000000001 * Math.cos(3.98103204416 + 339142.74084046457 * t);
-        Z2 += 0.00000000001 * Math.cos(2.22519315150 + 52061.36699446317 * t);
-        Z2 += 0.00000000001 * Math.cos(4.88662211480 + 104881.30353139139 * t);
-        Z2 += 0.00000000001 * Math.cos(2.53584920025 + 38654.05484155699 * t);
-        Z2 += 0.00000000001 * Math.cos(2.91594160501 + 83925.04147387479 * t);
-        Z2 += 0.00000000001 * Math.cos(2.43128064879 + 77734.01845962799 * t);
-        Z2 += 0.00000000001 * Math.cos(3.19056771528 + 51962.5071877104 * t);
-        Z2 += 0.00000000001 * Math.cos(6.12765391330 + 66941.04532641819 * t);
-        Z2 += 0.00000000001 * Math.cos(4.02441820677 + 12432.0426503978 * t);
-        Z2 += 0.00000000001 * Math.cos(2.42994719646 + 52602.4044740244 * t);
-        Z2 += 0.00000000001 * Math.cos(1.22454857023 + 28206.6670019526 * t);
-        Z2 += 0.00000000001 * Math.cos(4.83037329157 + 129380.13377768178 * t);
-        Z2 += 0.00000000001 * Math.cos(0.64473152248 + 110012.94461544899 * t);
-        Z2 += 0.00000000001 * Math.cos(2.99248190026 + 7994.5284420242 * t);
-        Z2 += 0.00000000001 * Math.cos(4.49658833907 + 78267.59076008058 * t);
-        Z2 += 0.00000000001 * Math.cos(4.71749238622 + 64741.95798313119 * t);
-        Z2 += 0.00000000001 * Math.cos(4.54522829555 + 11322.6640983044 * t);
-        Z2 += 0.00000000001 * Math.cos(5.58176968080 + 78477.00852016058 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 28 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000021392 * Math.cos(2.12804278460 + 26087.9031415742 * t);
-        Z3 += 0.00000017872;
-        Z3 += 0.00000002919 * Math.cos(5.41085836184 + 52175.8062831484 * t);
-        Z3 += 0.00000001164 * Math.cos(2.43324966912 + 78263.70942472259 * t);
-        Z3 += 0.00000000649 * Math.cos(5.91828820019 + 104351.61256629678 * t);
-        Z3 += 0.00000000338 * Math.cos(2.90727188863 + 130439.51570787099 * t);
-        Z3 += 0.00000000153 * Math.cos(6.06902785421 + 156527.41884944518 * t);
-        Z3 += 0.00000000063 * Math.cos(2.90040506590 + 182615.32199101939 * t);
-        Z3 += 0.00000000024 * Math.cos(5.99412433164 + 208703.22513259358 * t);
-        Z3 += 0.00000000009 * Math.cos(2.78985700920 + 234791.12827416777 * t);
-        Z3 += 0.00000000009 * Math.cos(3.85014410427 + 27197.2816936676 * t);
-        Z3 += 0.00000000007 * Math.cos(0.94845759850 + 24978.5245894808 * t);
-        Z3 += 0.00000000003 * Math.cos(5.85227323245 + 260879.03141574195 * t);
-        Z3 += 0.00000000001 * Math.cos(1.46066971079 + 1109.3785520934 * t);
-        Z3 += 0.00000000001 * Math.cos(5.63330817461 + 51066.427731055 * t);
-        Z3 += 0.00000000001 * Math.cos(2.63664793392 + 286966.93455731616 * t);
-        Z3 += 0.00000000001 * Math.cos(3.12548288181 + 77154.33087262919 * t);
-        Z3 += 0.00000000001 * Math.cos(0.10273460254 + 1059.3819301892 * t);
-        Z3 += 0.00000000001 * Math.cos(5.38950202464 + 20426.571092422 * t);
-        Z3 += 0.00000000001 * Math.cos(4.27644306777 + 25132.3033999656 * t);
-        Z3 += 0.00000000000 * Math.cos(1.26722844502 + 1589.0728952838 * t);
-        Z3 += 0.00000000001 * Math.cos(1.85750372421 + 53285.1848352418 * t);
-        Z3 += 0.00000000000 * Math.cos(1.48315414167 + 27043.5028831828 * t);
-        Z3 += 0.00000000000 * Math.cos(0.00510102644 + 103242.23401420339 * t);
-        Z3 += 0.00000000000 * Math.cos(0.26222106415 + 31749.2351907264 * t);
-        Z3 += 0.00000000000 * Math.cos(4.29763167864 + 4551.9534970588 * t);
-        Z3 += 0.00000000000 * Math.cos(1.62427828402 + 21535.9496445154 * t);
-        Z3 += 0.00000000000 * Math.cos(2.55626351718 + 46514.4742339962 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 10 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000000587 * Math.cos(4.86442699315 + 26087.9031415742 * t);
-        Z4 -= 0.00000000283;
-        Z4 += 0.00000000055 * Math.cos(3.04082107246 + 52175.8062831484 * t);
-        Z4 += 0.00000000026 * Math.cos(0.53815113361 + 78263.70942472259 * t);
-        Z4 += 0.00000000015 * Math.cos(4.06065320707 + 104351.61256629678 * t);
-        Z4 += 0.00000000009 * Math.cos(1.14893791529 + 130439.51570787099 * t);
-        Z4 += 0.00000000005 * Math.cos(4.38565359175 + 156527.41884944518 * t);
-        Z4 += 0.00000000002 * Math.cos(1.25002341217 + 182615.32199101939 * t);
-        Z4 += 0.00000000001 * Math.cos(4.38192942162 + 208703.22513259358 * t);
-        Z4 += 0.00000000000 * Math.cos(1.16515085289 + 234791.12827416777 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 7 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000004;
-        Z5 += 0.00000000002 * Math.cos(5.42849777894 + 26087.9031415742 * t);
-        Z5 += 0.00000000002 * Math.cos(1.19011087498 + 52175.8062831484 * t);
-        Z5 += 0.00000000001 * Math.cos(4.84147977903 + 78263.70942472259 * t);
-        Z5 += 0.00000000000 * Math.cos(2.14343331955 + 104351.61256629678 * t);
-        Z5 += 0.00000000000 * Math.cos(5.61950230485 + 130439.51570787099 * t);
-        Z5 += 0.00000000000 * Math.cos(2.76880495732 + 156527.41884944518 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
@@ -1,2787 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   NEPTUNE - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX OF THE DATE
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 4000 BC < Date < 8000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class A_Neptune {
-
-    static double X0(double t) // 772 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 30.05890004476 * Math.cos(5.31211340029 + 38.1330356378 * t);
-        X0 -= 0.27080164222;
-        X0 += 0.13505661755 * Math.cos(3.50078975634 + 76.2660712756 * t);
-        X0 += 0.15726094556 * Math.cos(0.11319072675 + 36.6485629295 * t);
-        X0 += 0.14935120126 * Math.cos(1.08499403018 + 39.6175083461 * t);
-        X0 += 0.02597313814 * Math.cos(1.99590301412 + 1.4844727083 * t);
-        X0 += 0.01074040708 * Math.cos(5.38502938672 + 74.7815985673 * t);
-        X0 += 0.00823793287 * Math.cos(1.43221581862 + 35.1640902212 * t);
-        X0 += 0.00817588813 * Math.cos(0.78180174031 + 2.9689454166 * t);
-        X0 += 0.00565534918 * Math.cos(5.98964907613 + 41.1019810544 * t);
-        X0 += 0.00495719107 * Math.cos(0.59948143567 + 529.6909650946 * t);
-        X0 += 0.00307525907 * Math.cos(0.40023311011 + 73.297125859 * t);
-        X0 += 0.00272253551 * Math.cos(0.87443494387 + 213.299095438 * t);
-        X0 += 0.00135887219 * Math.cos(5.54676577816 + 77.7505439839 * t);
-        X0 += 0.00090965704 * Math.cos(1.68910246115 + 114.3991069134 * t);
-        X0 += 0.00069040539 * Math.cos(5.83469123520 + 4.4534181249 * t);
-        X0 += 0.00060813556 * Math.cos(2.62589958380 + 33.6796175129 * t);
-        X0 += 0.00054690827 * Math.cos(1.55799996661 + 71.8126531507 * t);
-        X0 += 0.00028889260 * Math.cos(4.78966826027 + 42.5864537627 * t);
-        X0 += 0.00012614732 * Math.cos(3.57002516434 + 112.9146342051 * t);
-        X0 += 0.00012749153 * Math.cos(2.73719269645 + 111.4301614968 * t);
-        X0 += 0.00012013994 * Math.cos(0.94912933496 + 1059.3819301892 * t);
-        X0 += 0.00007540650 * Math.cos(2.77783477855 + 70.3281804424 * t);
-        X0 += 0.00007573383 * Math.cos(0.10011329853 + 426.598190876 * t);
-        X0 += 0.00008004318 * Math.cos(1.63965626260 + 108.4612160802 * t);
-        X0 += 0.00006464842 * Math.cos(4.62580066013 + 5.9378908332 * t);
-        X0 += 0.00005565860 * Math.cos(3.82502185953 + 32.1951448046 * t);
-        X0 += 0.00004654361 * Math.cos(0.10385887980 + 37.611770776 * t);
-        X0 += 0.00004732434 * Math.cos(4.09723977191 + 79.2350166922 * t);
-        X0 += 0.00004557247 * Math.cos(1.09712669317 + 38.6543004996 * t);
-        X0 += 0.00004322550 * Math.cos(2.37744780188 + 38.084851528 * t);
-        X0 += 0.00004315539 * Math.cos(5.10473142056 + 38.1812197476 * t);
-        X0 += 0.00004089036 * Math.cos(1.99429048244 + 37.1698277913 * t);
-        X0 += 0.00004249674 * Math.cos(5.63324475823 + 28.5718080822 * t);
-        X0 += 0.00003920412 * Math.cos(5.49263784865 + 39.0962434843 * t);
-        X0 += 0.00003951848 * Math.cos(2.29996934110 + 98.8999885246 * t);
-        X0 += 0.00003322735 * Math.cos(4.68798591938 + 4.192785694 * t);
-        X0 += 0.00003108292 * Math.cos(1.84434543409 + 47.6942631934 * t);
-        X0 += 0.00003260095 * Math.cos(1.81839652878 + 145.1097790097 * t);
-        X0 += 0.00002723442 * Math.cos(3.82296285941 + 109.9456887885 * t);
-        X0 += 0.00002522938 * Math.cos(4.66296126912 + 312.1990839626 * t);
-        X0 += 0.00001887430 * Math.cos(3.20485417792 + 35.685355083 * t);
-        X0 += 0.00001648985 * Math.cos(4.06990666591 + 30.0562807905 * t);
-        X0 += 0.00001826700 * Math.cos(3.58024318649 + 44.070926471 * t);
-        X0 += 0.00001945462 * Math.cos(4.15326825288 + 206.1855484372 * t);
-        X0 += 0.00001681255 * Math.cos(4.27560304282 + 40.5807161926 * t);
-        X0 += 0.00001533383 * Math.cos(1.17732211665 + 38.0211610532 * t);
-        X0 += 0.00001891892 * Math.cos(0.74998855536 + 220.4126424388 * t);
-        X0 += 0.00001527526 * Math.cos(0.02173640246 + 38.2449102224 * t);
-        X0 += 0.00002084477 * Math.cos(1.56821671369 + 149.5631971346 * t);
-        X0 += 0.00002083682 * Math.cos(2.83676961811 + 137.0330241624 * t);
-        X0 += 0.00001615063 * Math.cos(2.91063835010 + 106.9767433719 * t);
-        X0 += 0.00001265797 * Math.cos(3.42037275447 + 46.2097904851 * t);
-        X0 += 0.00001560429 * Math.cos(0.55865739143 + 37.8724032069 * t);
-        X0 += 0.00001545705 * Math.cos(0.64028780672 + 38.3936680687 * t);
-        X0 += 0.00001434798 * Math.cos(0.72658718863 + 522.5774180938 * t);
-        X0 += 0.00001271543 * Math.cos(2.74412981229 + 33.9402499438 * t);
-        X0 += 0.00001407422 * Math.cos(3.61743288666 + 536.8045120954 * t);
-        X0 += 0.00001387922 * Math.cos(3.71814330952 + 115.8835796217 * t);
-        X0 += 0.00001228939 * Math.cos(2.78878211792 + 72.0732855816 * t);
-        X0 += 0.00001448439 * Math.cos(1.98814317259 + 181.7583419392 * t);
-        X0 += 0.00001170078 * Math.cos(3.98594689041 + 8.0767548473 * t);
-        X0 += 0.00001080795 * Math.cos(4.75485636019 + 42.3258213318 * t);
-        X0 += 0.00001220341 * Math.cos(2.64791449584 + 148.0787244263 * t);
-        X0 += 0.00000942722 * Math.cos(3.99861076677 + 68.8437077341 * t);
-        X0 += 0.00000722013 * Math.cos(6.16811781566 + 152.5321425512 * t);
-        X0 += 0.00000608265 * Math.cos(4.49563700854 + 35.212274331 * t);
-        X0 += 0.00000714969 * Math.cos(3.09121631507 + 143.6253063014 * t);
-        X0 += 0.00000633834 * Math.cos(3.41692648170 + 7.4223635415 * t);
-        X0 += 0.00000554473 * Math.cos(2.98634397776 + 41.0537969446 * t);
-        X0 += 0.00000566306 * Math.cos(5.02809882280 + 30.7106720963 * t);
-        X0 += 0.00000679542 * Math.cos(2.15673681356 + 218.4069048687 * t);
-        X0 += 0.00000463140 * Math.cos(2.74436643796 + 31.5407534988 * t);
-        X0 += 0.00000451619 * Math.cos(4.62757040522 + 44.7253177768 * t);
-        X0 += 0.00000528038 * Math.cos(0.34505105111 + 0.9632078465 * t);
-        X0 += 0.00000439638 * Math.cos(1.29678048299 + 1589.0728952838 * t);
-        X0 += 0.00000406092 * Math.cos(5.51084213663 + 6.592282139 * t);
-        X0 += 0.00000493231 * Math.cos(3.82613187047 + 146.594251718 * t);
-        X0 += 0.00000306843 * Math.cos(2.62651223895 + 60.7669528868 * t);
-        X0 += 0.00000405411 * Math.cos(5.31947629009 + 31.019488637 * t);
-        X0 += 0.00000337082 * Math.cos(1.72339969429 + 0.5212648618 * t);
-        X0 += 0.00000346164 * Math.cos(3.26507470705 + 180.2738692309 * t);
-        X0 += 0.00000313191 * Math.cos(3.01986161415 + 419.4846438752 * t);
-        X0 += 0.00000382398 * Math.cos(0.21680708235 + 487.3651437628 * t);
-        X0 += 0.00000301491 * Math.cos(5.17778763481 + 84.3428261229 * t);
-        X0 += 0.00000336250 * Math.cos(2.14824434860 + 45.2465826386 * t);
-        X0 += 0.00000285404 * Math.cos(1.74711125301 + 110.2063212194 * t);
-        X0 += 0.00000304503 * Math.cos(5.63258357751 + 639.897286314 * t);
-        X0 += 0.00000333233 * Math.cos(2.32861862173 + 255.0554677982 * t);
-        X0 += 0.00000268060 * Math.cos(3.30852177378 + 36.7604375141 * t);
-        X0 += 0.00000264760 * Math.cos(4.12724083445 + 39.5056337615 * t);
-        X0 += 0.00000313989 * Math.cos(2.72704786801 + 388.4651552382 * t);
-        X0 += 0.00000226971 * Math.cos(4.59278380480 + 274.0660483248 * t);
-        X0 += 0.00000306048 * Math.cos(1.75144377069 + 6283.0758499914 * t);
-        X0 += 0.00000283841 * Math.cos(3.36226298508 + 12.5301729722 * t);
-        X0 += 0.00000242743 * Math.cos(2.06472522938 + 14.0146456805 * t);
-        X0 += 0.00000226154 * Math.cos(2.83844512995 + 80.7194894005 * t);
-        X0 += 0.00000233075 * Math.cos(4.15738074001 + 105.4922706636 * t);
-        X0 += 0.00000239672 * Math.cos(0.55843257386 + 27.0873353739 * t);
-        X0 += 0.00000265940 * Math.cos(4.11954506638 + 944.9828232758 * t);
-        X0 += 0.00000227822 * Math.cos(2.13057267497 + 103.0927742186 * t);
-        X0 += 0.00000215988 * Math.cos(2.65917690725 + 316.3918696566 * t);
-        X0 += 0.00000190998 * Math.cos(2.32419774896 + 69.1525242748 * t);
-        X0 += 0.00000203230 * Math.cos(0.60054564924 + 415.2918581812 * t);
-        X0 += 0.00000176465 * Math.cos(0.14731264750 + 36.5366883449 * t);
-        X0 += 0.00000177003 * Math.cos(0.09240613438 + 24.1183899573 * t);
-        X0 += 0.00000185282 * Math.cos(3.31492482279 + 175.1660598002 * t);
-        X0 += 0.00000175209 * Math.cos(1.12575721851 + 39.7293829307 * t);
-        X0 += 0.00000176810 * Math.cos(3.44067665667 + 216.9224321604 * t);
-        X0 += 0.00000135459 * Math.cos(3.29658706564 + 9.5612275556 * t);
-        X0 += 0.00000134759 * Math.cos(5.48177520941 + 75.7448064138 * t);
-        X0 += 0.00000179189 * Math.cos(3.95792517028 + 183.2428146475 * t);
-        X0 += 0.00000148346 * Math.cos(1.68010000396 + 151.0476698429 * t);
-        X0 += 0.00000129174 * Math.cos(5.91949003083 + 43.2408450685 * t);
-        X0 += 0.00000177820 * Math.cos(3.17257015761 + 10213.285546211 * t);
-        X0 += 0.00000156561 * Math.cos(4.19153867973 + 63.7358983034 * t);
-        X0 += 0.00000146334 * Math.cos(4.81027789789 + 11.0457002639 * t);
-        X0 += 0.00000124092 * Math.cos(0.33312196832 + 82.8583534146 * t);
-        X0 += 0.00000121226 * Math.cos(5.10584282456 + 37.9205873167 * t);
-        X0 += 0.00000129049 * Math.cos(3.80684882859 + 36.8610112506 * t);
-        X0 += 0.00000120117 * Math.cos(2.36053032404 + 38.3454839589 * t);
-        X0 += 0.00000169037 * Math.cos(2.49417096791 + 291.7040307277 * t);
-        X0 += 0.00000121138 * Math.cos(1.49666213233 + 33.0252262071 * t);
-        X0 += 0.00000129442 * Math.cos(2.36907122801 + 45.5553991793 * t);
-        X0 += 0.00000144638 * Math.cos(0.63080734164 + 49.1787359017 * t);
-        X0 += 0.00000122915 * Math.cos(3.67433552159 + 39.405060025 * t);
-        X0 += 0.00000154797 * Math.cos(1.74840367711 + 77.2292791221 * t);
-        X0 += 0.00000106839 * Math.cos(0.57301677365 + 5.1078094307 * t);
-        X0 += 0.00000103540 * Math.cos(5.25634656769 + 40.8413486235 * t);
-        X0 += 0.00000102917 * Math.cos(2.29532659562 + 35.4247226521 * t);
-        X0 += 0.00000111109 * Math.cos(5.21447473078 + 67.3592350258 * t);
-        X0 += 0.00000116205 * Math.cos(5.56364568271 + 632.7837393132 * t);
-        X0 += 0.00000110050 * Math.cos(4.33896766039 + 142.1408335931 * t);
-        X0 += 0.00000104452 * Math.cos(6.26048746922 + 433.7117378768 * t);
-        X0 += 0.00000097241 * Math.cos(6.17677080243 + 1052.2683831884 * t);
-        X0 += 0.00000085104 * Math.cos(4.79018193091 + 36.4361146084 * t);
-        X0 += 0.00000119617 * Math.cos(5.01817354003 + 25.6028626656 * t);
-        X0 += 0.00000085710 * Math.cos(5.93681198924 + 106.0135355254 * t);
-        X0 += 0.00000092947 * Math.cos(5.45424466758 + 62.2514255951 * t);
-        X0 += 0.00000092567 * Math.cos(3.21456499053 + 32.7164096664 * t);
-        X0 += 0.00000080200 * Math.cos(2.69199800753 + 39.8299566672 * t);
-        X0 += 0.00000108865 * Math.cos(0.01285078004 + 1162.4747044078 * t);
-        X0 += 0.00000086613 * Math.cos(1.38012091187 + 100.3844612329 * t);
-        X0 += 0.00000094922 * Math.cos(3.61296023449 + 253.5709950899 * t);
-        X0 += 0.00000072986 * Math.cos(1.82355507012 + 22.633917249 * t);
-        X0 += 0.00000100254 * Math.cos(2.52703279512 + 453.424893819 * t);
-        X0 += 0.00000072027 * Math.cos(0.11366561346 + 36.6967470393 * t);
-        X0 += 0.00000089060 * Math.cos(1.32938886500 + 251.4321310758 * t);
-        X0 += 0.00000096664 * Math.cos(4.11397655268 + 219.891377577 * t);
-        X0 += 0.00000089068 * Math.cos(2.76919065479 + 65.2203710117 * t);
-        X0 += 0.00000077348 * Math.cos(5.31146277396 + 5.4166259714 * t);
-        X0 += 0.00000065520 * Math.cos(4.00996666370 + 66.70484372 * t);
-        X0 += 0.00000069405 * Math.cos(3.95754841113 + 1066.49547719 * t);
-        X0 += 0.00000087258 * Math.cos(2.66760530100 + 328.3525936572 * t);
-        X0 += 0.00000072807 * Math.cos(4.23052254217 + 43.5496616092 * t);
-        X0 += 0.00000065817 * Math.cos(1.42821896659 + 36.1272980677 * t);
-        X0 += 0.00000063662 * Math.cos(2.21155835394 + 8.9068362498 * t);
-        X0 += 0.00000057029 * Math.cos(4.47336526383 + 949.1756089698 * t);
-        X0 += 0.00000073980 * Math.cos(5.56439585580 + 2.7083129857 * t);
-        X0 += 0.00000075165 * Math.cos(0.26221144253 + 97.4155158163 * t);
-        X0 += 0.00000062934 * Math.cos(1.53666713803 + 2.9207613068 * t);
-        X0 += 0.00000060042 * Math.cos(6.23591295978 + 29.226199388 * t);
-        X0 += 0.00000068141 * Math.cos(3.95659956363 + 6.9010986797 * t);
-        X0 += 0.00000071609 * Math.cos(2.05679246101 + 662.531203563 * t);
-        X0 += 0.00000057327 * Math.cos(0.88500496532 + 15.4991183888 * t);
-        X0 += 0.00000050470 * Math.cos(1.08386527084 + 36.9091953604 * t);
-        X0 += 0.00000066447 * Math.cos(3.41699770462 + 846.0828347512 * t);
-        X0 += 0.00000067998 * Math.cos(3.88626045440 + 224.3447957019 * t);
-        X0 += 0.00000055782 * Math.cos(4.51929442479 + 178.7893965226 * t);
-        X0 += 0.00000065197 * Math.cos(0.94675037786 + 2.4476805548 * t);
-        X0 += 0.00000048927 * Math.cos(1.27232208261 + 19.0105805266 * t);
-        X0 += 0.00000046774 * Math.cos(0.83941291963 + 3.9321532631 * t);
-        X0 += 0.00000059504 * Math.cos(4.28371174513 + 256.5399405065 * t);
-        X0 += 0.00000045642 * Math.cos(2.17627625563 + 117.36805233 * t);
-        X0 += 0.00000052496 * Math.cos(3.77774414174 + 290.2195580194 * t);
-        X0 += 0.00000056594 * Math.cos(6.18530177328 + 221.3758502853 * t);
-        X0 += 0.00000045277 * Math.cos(0.21515321589 + 1.2238402774 * t);
-        X0 += 0.00000043900 * Math.cos(2.24943568390 + 32.5039613453 * t);
-        X0 += 0.00000038369 * Math.cos(0.36602739792 + 39.3568759152 * t);
-        X0 += 0.00000049423 * Math.cos(3.88247230281 + 525.4981794006 * t);
-        X0 += 0.00000038844 * Math.cos(0.98004799212 + 41.7563723602 * t);
-        X0 += 0.00000038213 * Math.cos(0.28030398995 + 75.3028634291 * t);
-        X0 += 0.00000035904 * Math.cos(0.17178502657 + 449.232108125 * t);
-        X0 += 0.00000038967 * Math.cos(5.05381593074 + 7.1135470008 * t);
-        X0 += 0.00000048297 * Math.cos(6.20091776893 + 3340.6124266998 * t);
-        X0 += 0.00000047341 * Math.cos(2.81338610634 + 365.0011565867 * t);
-        X0 += 0.00000038163 * Math.cos(5.23367376836 + 43.7621099303 * t);
-        X0 += 0.00000042228 * Math.cos(5.64690940917 + 76.7873361374 * t);
-        X0 += 0.00000045759 * Math.cos(4.75988756419 + 491.5579294568 * t);
-        X0 += 0.00000042160 * Math.cos(4.48656614621 + 31.2319369581 * t);
-        X0 += 0.00000035247 * Math.cos(0.20766798411 + 34.5096989154 * t);
-        X0 += 0.00000033509 * Math.cos(5.65652422418 + 67.8804998876 * t);
-        X0 += 0.00000033085 * Math.cos(4.59560243545 + 34.2008823747 * t);
-        X0 += 0.00000034352 * Math.cos(1.08288982986 + 33.4671691918 * t);
-        X0 += 0.00000034964 * Math.cos(2.01236505402 + 3.6233367224 * t);
-        X0 += 0.00000035690 * Math.cos(2.17779874046 + 70.8494453042 * t);
-        X0 += 0.00000040831 * Math.cos(2.58095758724 + 310.7146112543 * t);
-        X0 += 0.00000038618 * Math.cos(2.31716832803 + 50.66320861 * t);
-        X0 += 0.00000041713 * Math.cos(2.16213866054 + 1021.2488945514 * t);
-        X0 += 0.00000038281 * Math.cos(0.30795321775 + 5.6772584023 * t);
-        X0 += 0.00000038880 * Math.cos(3.29381198979 + 76.3142553854 * t);
-        X0 += 0.00000034672 * Math.cos(4.48294008385 + 319.3126309634 * t);
-        X0 += 0.00000039604 * Math.cos(4.60072832158 + 563.6312150384 * t);
-        X0 += 0.00000040526 * Math.cos(0.03726110727 + 258.0244132148 * t);
-        X0 += 0.00000031314 * Math.cos(2.51120215599 + 184.7272873558 * t);
-        X0 += 0.00000038880 * Math.cos(0.56654650956 + 76.2178871658 * t);
-        X0 += 0.00000032755 * Math.cos(5.57869647430 + 91.7864415238 * t);
-        X0 += 0.00000034456 * Math.cos(1.65821047826 + 305.0855369618 * t);
-        X0 += 0.00000037777 * Math.cos(4.45977183034 + 293.188503436 * t);
-        X0 += 0.00000037422 * Math.cos(2.84624206227 + 17.5261078183 * t);
-        X0 += 0.00000028459 * Math.cos(0.11299014227 + 42.7989020838 * t);
-        X0 += 0.00000032206 * Math.cos(2.29937644388 + 78.7137518304 * t);
-        X0 += 0.00000034974 * Math.cos(3.54684672078 + 313.6835566709 * t);
-        X0 += 0.00000026519 * Math.cos(6.20266976376 + 57.255490749 * t);
-        X0 += 0.00000028786 * Math.cos(4.65055968537 + 215.4379594521 * t);
-        X0 += 0.00000031496 * Math.cos(4.10798902830 + 21.9795259432 * t);
-        X0 += 0.00000027524 * Math.cos(3.42975034397 + 69.3649725959 * t);
-        X0 += 0.00000025982 * Math.cos(5.38913791843 + 104.0077979553 * t);
-        X0 += 0.00000022617 * Math.cos(3.46251776478 + 36.6003788197 * t);
-        X0 += 0.00000023432 * Math.cos(4.24731386395 + 35.2759648058 * t);
-        X0 += 0.00000028085 * Math.cos(2.83450558708 + 11.3063326948 * t);
-        X0 += 0.00000026520 * Math.cos(0.30917290380 + 186.2117600641 * t);
-        X0 += 0.00000021423 * Math.cos(0.87822750242 + 39.6656924559 * t);
-        X0 += 0.00000023164 * Math.cos(2.59103009569 + 68.1893164283 * t);
-        X0 += 0.00000026754 * Math.cos(3.94781592186 + 326.8681209489 * t);
-        X0 += 0.00000024636 * Math.cos(2.36566879926 + 20.4950532349 * t);
-        X0 += 0.00000022794 * Math.cos(0.61844806068 + 227.5261894396 * t);
-        X0 += 0.00000022719 * Math.cos(2.73465617885 + 79.1868325824 * t);
-        X0 += 0.00000019952 * Math.cos(5.26630019767 + 64.9597385808 * t);
-        X0 += 0.00000022482 * Math.cos(0.72349643385 + 39.5693242363 * t);
-        X0 += 0.00000020858 * Math.cos(3.23577482504 + 40.9901064698 * t);
-        X0 += 0.00000020327 * Math.cos(0.04331485179 + 37.478644332 * t);
-        X0 += 0.00000020327 * Math.cos(1.15567976096 + 38.7874269436 * t);
-        X0 += 0.00000019388 * Math.cos(1.62133813227 + 2118.7638603784 * t);
-        X0 += 0.00000018462 * Math.cos(0.93487935576 + 138.5174968707 * t);
-        X0 += 0.00000025245 * Math.cos(2.97720937219 + 401.6497195162 * t);
-        X0 += 0.00000023422 * Math.cos(0.91668385938 + 135.5485514541 * t);
-        X0 += 0.00000023863 * Math.cos(0.28305954716 + 294.6729761443 * t);
-        X0 += 0.00000020469 * Math.cos(2.84991827942 + 202.2533951741 * t);
-        X0 += 0.00000024398 * Math.cos(4.63603670592 + 329.8370663655 * t);
-        X0 += 0.00000019831 * Math.cos(6.14231002572 + 129.9194771616 * t);
-        X0 += 0.00000022713 * Math.cos(5.70775452731 + 1436.5407527326 * t);
-        X0 += 0.00000020113 * Math.cos(4.01438548696 + 217.2312487011 * t);
-        X0 += 0.00000020302 * Math.cos(0.89746397482 + 209.3669421749 * t);
-        X0 += 0.00000017728 * Math.cos(2.77443598476 + 17.6379824029 * t);
-        X0 += 0.00000016188 * Math.cos(2.57356791106 + 37.4998961914 * t);
-        X0 += 0.00000016188 * Math.cos(4.90861200887 + 38.7661750842 * t);
-        X0 += 0.00000020858 * Math.cos(4.67505251944 + 58.7399634573 * t);
-        X0 += 0.00000016405 * Math.cos(5.69309173520 + 735.8765135318 * t);
-        X0 += 0.00000015724 * Math.cos(1.88925867017 + 154.0166152595 * t);
-        X0 += 0.00000016170 * Math.cos(0.26151158014 + 72.3339180125 * t);
-        X0 += 0.00000018916 * Math.cos(5.47002152686 + 40.1387732079 * t);
-        X0 += 0.00000018822 * Math.cos(6.20082259761 + 323.5054166574 * t);
-        X0 += 0.00000015346 * Math.cos(2.12588704490 + 742.9900605326 * t);
-        X0 += 0.00000020671 * Math.cos(5.30625661219 + 85.8272988312 * t);
-        X0 += 0.00000014928 * Math.cos(0.78464894996 + 33.9884340536 * t);
-        X0 += 0.00000015400 * Math.cos(4.89570509053 + 55.7710180407 * t);
-        X0 += 0.00000015003 * Math.cos(6.06837299592 + 20.6069278195 * t);
-        X0 += 0.00000018609 * Math.cos(3.38782333097 + 54.2865453324 * t);
-        X0 += 0.00000018700 * Math.cos(1.12219613883 + 59.2824801785 * t);
-        X0 += 0.00000013971 * Math.cos(5.11256155147 + 76.5267037065 * t);
-        X0 += 0.00000015974 * Math.cos(0.79917645856 + 515.463871093 * t);
-        X0 += 0.00000019162 * Math.cos(2.49858178805 + 81.3738807063 * t);
-        X0 += 0.00000013966 * Math.cos(4.45404032739 + 235.933012687 * t);
-        X0 += 0.00000015424 * Math.cos(6.09858524641 + 209.106309744 * t);
-        X0 += 0.00000014889 * Math.cos(0.97067379700 + 52.1476813183 * t);
-        X0 += 0.00000017322 * Math.cos(1.69350571733 + 73.8183907208 * t);
-        X0 += 0.00000015360 * Math.cos(1.34896859320 + 8.385571388 * t);
-        X0 += 0.00000012911 * Math.cos(0.41434577054 + 42.277637222 * t);
-        X0 += 0.00000012914 * Math.cos(2.32697196177 + 107.2855599126 * t);
-        X0 += 0.00000016166 * Math.cos(4.96405776633 + 853.196381752 * t);
-        X0 += 0.00000014253 * Math.cos(4.87402416011 + 252.0865223816 * t);
-        X0 += 0.00000014745 * Math.cos(1.55174834608 + 82.2039621088 * t);
-        X0 += 0.00000014840 * Math.cos(0.62836398949 + 43.8102940401 * t);
-        X0 += 0.00000015476 * Math.cos(4.71667567197 + 366.485629295 * t);
-        X0 += 0.00000014964 * Math.cos(4.12823484692 + 363.5166838784 * t);
-        X0 += 0.00000012269 * Math.cos(4.97560513030 + 76.0054388447 * t);
-        X0 += 0.00000012794 * Math.cos(5.90055335939 + 26.826702943 * t);
-        X0 += 0.00000014352 * Math.cos(2.03450798266 + 73.5577582899 * t);
-        X0 += 0.00000014292 * Math.cos(5.66547183054 + 700.6642392008 * t);
-        X0 += 0.00000012251 * Math.cos(1.18824411089 + 47.0398718876 * t);
-        X0 += 0.00000013656 * Math.cos(5.33984015976 + 19.1224551112 * t);
-        X0 += 0.00000012109 * Math.cos(2.10142430456 + 32.7645937762 * t);
-        X0 += 0.00000015463 * Math.cos(3.88973407461 + 837.6972633632 * t);
-        X0 += 0.00000011481 * Math.cos(2.25547353644 + 37.3029542353 * t);
-        X0 += 0.00000011481 * Math.cos(5.22670638350 + 38.9631170403 * t);
-        X0 += 0.00000011455 * Math.cos(1.21185103334 + 529.1697002328 * t);
-        X0 += 0.00000012137 * Math.cos(2.33016774123 + 42.0651889009 * t);
-        X0 += 0.00000013771 * Math.cos(4.49397894473 + 76.3779458602 * t);
-        X0 += 0.00000010692 * Math.cos(4.35159490002 + 187.6962327724 * t);
-        X0 += 0.00000011035 * Math.cos(3.16468611086 + 530.2122299564 * t);
-        X0 += 0.00000011498 * Math.cos(5.58046420166 + 140.6563608848 * t);
-        X0 += 0.00000010957 * Math.cos(4.40451243000 + 199.0720014364 * t);
-        X0 += 0.00000011769 * Math.cos(4.24181618457 + 275.5505210331 * t);
-        X0 += 0.00000013663 * Math.cos(0.43266174776 + 331.3215390738 * t);
-        X0 += 0.00000013308 * Math.cos(3.10907233961 + 438.2982824457 * t);
-        X0 += 0.00000013771 * Math.cos(5.64956481971 + 76.154196691 * t);
-        X0 += 0.00000013632 * Math.cos(2.86683636247 + 45.0341343175 * t);
-        X0 += 0.00000010275 * Math.cos(2.33816907673 + 567.8240007324 * t);
-        X0 += 0.00000011622 * Math.cos(0.61757259415 + 533.6231183577 * t);
-        X0 += 0.00000011419 * Math.cos(4.80118839377 + 403.1341922245 * t);
-        X0 += 0.00000009678 * Math.cos(6.07344345071 + 956.2891559706 * t);
-        X0 += 0.00000010218 * Math.cos(0.15937912520 + 65.8747623175 * t);
-        X0 += 0.00000010240 * Math.cos(2.91846738700 + 80.4588569696 * t);
-        X0 += 0.00000010031 * Math.cos(5.38075579726 + 43.5014774994 * t);
-        X0 += 0.00000011490 * Math.cos(3.76653814388 + 525.7588118315 * t);
-        X0 += 0.00000009814 * Math.cos(2.48786918599 + 21.1494445407 * t);
-        X0 += 0.00000009908 * Math.cos(3.50649132072 + 543.9180590962 * t);
-        X0 += 0.00000008663 * Math.cos(4.05503359529 + 277.0349937414 * t);
-        X0 += 0.00000008767 * Math.cos(2.04264115651 + 624.3981679252 * t);
-        X0 += 0.00000009004 * Math.cos(0.37183459802 + 101.8689339412 * t);
-        X0 += 0.00000008986 * Math.cos(5.62899011624 + 1478.8665740644 * t);
-        X0 += 0.00000010223 * Math.cos(5.22522199427 + 120.9913890524 * t);
-        X0 += 0.00000010189 * Math.cos(2.58985496469 + 21.4582610814 * t);
-        X0 += 0.00000008414 * Math.cos(2.47005781008 + 377.1588225434 * t);
-        X0 += 0.00000009753 * Math.cos(0.08887858960 + 168.0525127994 * t);
-        X0 += 0.00000010361 * Math.cos(0.01486429648 + 119.5069163441 * t);
-        X0 += 0.00000007927 * Math.cos(0.93746230599 + 906.849787638 * t);
-        X0 += 0.00000007910 * Math.cos(1.42617229467 + 526.5095713569 * t);
-        X0 += 0.00000007908 * Math.cos(2.90320463195 + 532.8723588323 * t);
-        X0 += 0.00000007821 * Math.cos(5.61005951052 + 415.5524906121 * t);
-        X0 += 0.00000008736 * Math.cos(3.99247403211 + 459.3627846522 * t);
-        X0 += 0.00000008454 * Math.cos(2.52377850488 + 144.1465711632 * t);
-        X0 += 0.00000007805 * Math.cos(5.67359329262 + 350.3321196004 * t);
-        X0 += 0.00000008986 * Math.cos(4.29352626319 + 400.1652468079 * t);
-        X0 += 0.00000008336 * Math.cos(0.40706659655 + 1692.1656695024 * t);
-        X0 += 0.00000007108 * Math.cos(1.26362136235 + 117.3198682202 * t);
-        X0 += 0.00000009026 * Math.cos(4.77784842124 + 347.9326231554 * t);
-        X0 += 0.00000007736 * Math.cos(0.83413065439 + 1265.5674786264 * t);
-        X0 += 0.00000008418 * Math.cos(1.48515415206 + 77.489911553 * t);
-        X0 += 0.00000008357 * Math.cos(3.54470219620 + 480.251596762 * t);
-        X0 += 0.00000007446 * Math.cos(5.58644401851 + 987.5692770385 * t);
-        X0 += 0.00000007909 * Math.cos(5.04849479665 + 288.7350853111 * t);
-        X0 += 0.00000007092 * Math.cos(0.01343269779 + 452.9036289572 * t);
-        X0 += 0.00000006879 * Math.cos(0.44795113817 + 216.4804891757 * t);
-        X0 += 0.00000007067 * Math.cos(1.92910668924 + 453.9461586808 * t);
-        X0 += 0.00000008171 * Math.cos(1.80921070558 + 14.2270940016 * t);
-        X0 += 0.00000008521 * Math.cos(2.07590162032 + 95.9792272178 * t);
-        X0 += 0.00000006711 * Math.cos(4.46268380487 + 210.1177017003 * t);
-        X0 += 0.00000007404 * Math.cos(1.00296550334 + 75.0422309982 * t);
-        X0 += 0.00000007700 * Math.cos(4.42811621635 + 118.0224436358 * t);
-        X0 += 0.00000006426 * Math.cos(5.00634728978 + 107.4980082337 * t);
-        X0 += 0.00000007909 * Math.cos(1.64368221183 + 36.3879304986 * t);
-        X0 += 0.00000007909 * Math.cos(2.69690505451 + 39.878140777 * t);
-        X0 += 0.00000007754 * Math.cos(0.07292672861 + 494.4786907636 * t);
-        X0 += 0.00000006970 * Math.cos(5.77988712105 + 177.3049238143 * t);
-        X0 += 0.00000007571 * Math.cos(2.81738030709 + 23.4639986515 * t);
-        X0 += 0.00000007039 * Math.cos(0.87709076060 + 367.9701020033 * t);
-        X0 += 0.00000007803 * Math.cos(3.85480058958 + 314.9073969483 * t);
-        X0 += 0.00000007837 * Math.cos(0.36694469487 + 1093.0615477021 * t);
-        X0 += 0.00000006766 * Math.cos(1.51640472707 + 55.6591434561 * t);
-        X0 += 0.00000007959 * Math.cos(0.38379928039 + 170.9732741062 * t);
-        X0 += 0.00000008362 * Math.cos(0.62230895069 + 709.9648343255 * t);
-        X0 += 0.00000005947 * Math.cos(2.49604652491 + 52213.9393187862 * t);
-        X0 += 0.00000007549 * Math.cos(3.25574232293 + 474.9468453752 * t);
-        X0 += 0.00000007372 * Math.cos(4.88713041971 + 54.8078101942 * t);
-        X0 += 0.00000008092 * Math.cos(4.51194576141 + 485.8806710545 * t);
-        X0 += 0.00000006945 * Math.cos(0.00895795142 + 1581.959348283 * t);
-        X0 += 0.00000006938 * Math.cos(5.60339951720 + 647.0108333148 * t);
-        X0 += 0.00000005719 * Math.cos(4.96252073817 + 321.7603115182 * t);
-        X0 += 0.00000005900 * Math.cos(4.92603535036 + 52061.40717623499 * t);
-        X0 += 0.00000005695 * Math.cos(5.93788236616 + 222.8603229936 * t);
-        X0 += 0.00000006554 * Math.cos(0.27333269638 + 912.7876784712 * t);
-        X0 += 0.00000005908 * Math.cos(1.13635211477 + 27.7417266797 * t);
-        X0 += 0.00000006694 * Math.cos(5.53088277716 + 488.8496164711 * t);
-        X0 += 0.00000005654 * Math.cos(3.04044893090 + 12604.2847356206 * t);
-        X0 += 0.00000005758 * Math.cos(2.82344058849 + 29.7956483596 * t);
-        X0 += 0.00000005270 * Math.cos(3.46742834680 + 6167.1922703697 * t);
-        X0 += 0.00000005679 * Math.cos(5.91775882963 + 16.9835910971 * t);
-        X0 += 0.00000005209 * Math.cos(4.02195461829 + 1654.0326338646 * t);
-        X0 += 0.00000005748 * Math.cos(2.93833293745 + 169.228168967 * t);
-        X0 += 0.00000005146 * Math.cos(0.81172839256 + 46.5186070258 * t);
-        X0 += 0.00000005080 * Math.cos(4.32167771768 + 565.1156877467 * t);
-        X0 += 0.00000006475 * Math.cos(2.52363278034 + 590.8304249969 * t);
-        X0 += 0.00000004984 * Math.cos(4.89088171253 + 10097.4019665893 * t);
-        X0 += 0.00000005318 * Math.cos(5.22697439239 + 44.2833747921 * t);
-        X0 += 0.00000006699 * Math.cos(2.95046041231 + 2156.8968960162 * t);
-        X0 += 0.00000005125 * Math.cos(0.87728916070 + 134.0640787458 * t);
-        X0 += 0.00000005296 * Math.cos(1.30832920931 + 281.1795953256 * t);
-        X0 += 0.00000005041 * Math.cos(2.52183329138 + 272.5815756165 * t);
-        X0 += 0.00000005994 * Math.cos(5.89267771496 + 93.2709142321 * t);
-        X0 += 0.00000006298 * Math.cos(3.64971867049 + 271.6665518798 * t);
-        X0 += 0.00000006131 * Math.cos(6.28127551683 + 6318.2399402126 * t);
-        X0 += 0.00000005671 * Math.cos(5.73125915161 + 674.8007441043 * t);
-        X0 += 0.00000005685 * Math.cos(1.71151397749 + 1165.3954657146 * t);
-        X0 += 0.00000006215 * Math.cos(5.21725938550 + 439.782755154 * t);
-        X0 += 0.00000005454 * Math.cos(5.93543303674 + 711.4493070338 * t);
-        X0 += 0.00000005004 * Math.cos(0.53392408006 + 74.2603337055 * t);
-        X0 += 0.00000005683 * Math.cos(5.96405963657 + 381.3516082374 * t);
-        X0 += 0.00000006127 * Math.cos(3.68765217385 + 132.8884225782 * t);
-        X0 += 0.00000005114 * Math.cos(2.52635469399 + 1120.148883076 * t);
-        X0 += 0.00000005871 * Math.cos(0.03409903197 + 528.4671248172 * t);
-        X0 += 0.00000004765 * Math.cos(6.27332561370 + 32.4557772355 * t);
-        X0 += 0.00000005821 * Math.cos(1.41981947590 + 10248.4496364322 * t);
-        X0 += 0.00000004944 * Math.cos(2.31703723493 + 601.7642506762 * t);
-        X0 += 0.00000004353 * Math.cos(4.24245486384 + 104.5290628171 * t);
-        X0 += 0.00000004949 * Math.cos(4.42793316106 + 1474.6737883704 * t);
-        X0 += 0.00000005244 * Math.cos(2.33675009562 + 73.3453099688 * t);
-        X0 += 0.00000004585 * Math.cos(1.63808661984 + 1272.6810256272 * t);
-        X0 += 0.00000004483 * Math.cos(2.44008975730 + 384.2723695442 * t);
-        X0 += 0.00000006063 * Math.cos(4.76042504867 + 749.5823426716 * t);
-        X0 += 0.00000006008 * Math.cos(4.59294328840 + 712.9337797421 * t);
-        X0 += 0.00000005922 * Math.cos(4.37134416172 + 286.596221297 * t);
-        X0 += 0.00000004270 * Math.cos(4.24481246454 + 1577.766562589 * t);
-        X0 += 0.00000005100 * Math.cos(4.49472750722 + 436.8138097374 * t);
-        X0 += 0.00000005572 * Math.cos(0.87437668538 + 291.0496394219 * t);
-        X0 += 0.00000004336 * Math.cos(5.80102982405 + 53.653405886 * t);
-        X0 += 0.00000004427 * Math.cos(3.00156208244 + 189.1807054807 * t);
-        X0 += 0.00000005872 * Math.cos(4.92613662106 + 786.2309056011 * t);
-        X0 += 0.00000005402 * Math.cos(0.44313805730 + 283.6272758804 * t);
-        X0 += 0.00000004646 * Math.cos(2.87775185163 + 13286.1836355236 * t);
-        X0 += 0.00000004330 * Math.cos(4.99573580513 + 323.2447842265 * t);
-        X0 += 0.00000005508 * Math.cos(4.27724254397 + 177.8743727859 * t);
-        X0 += 0.00000005348 * Math.cos(1.42468170559 + 24.6396548191 * t);
-        X0 += 0.00000004647 * Math.cos(3.77894333117 + 1375.7737998458 * t);
-        X0 += 0.00000005637 * Math.cos(0.14931346796 + 738.7972748386 * t);
-        X0 += 0.00000004084 * Math.cos(3.35816370949 + 765.6239777816 * t);
-        X0 += 0.00000004090 * Math.cos(3.49305404275 + 531.1754378029 * t);
-        X0 += 0.00000005537 * Math.cos(0.40882285275 + 6247.9117597702 * t);
-        X0 += 0.00000004851 * Math.cos(1.58937686331 + 635.1832357582 * t);
-        X0 += 0.00000004873 * Math.cos(4.65006489170 + 52.8020726241 * t);
-        X0 += 0.00000004424 * Math.cos(1.37849633956 + 20388.4380567842 * t);
-        X0 += 0.00000004182 * Math.cos(1.11763449341 + 6606.4432548323 * t);
-        X0 += 0.00000004293 * Math.cos(4.65873972226 + 46.470422916 * t);
-        X0 += 0.00000004687 * Math.cos(2.55927316823 + 57.1436161644 * t);
-        X0 += 0.00000005189 * Math.cos(5.77343536321 + 351.8165923087 * t);
-        X0 += 0.00000004492 * Math.cos(0.09912701965 + 52177.29075585669 * t);
-        X0 += 0.00000004073 * Math.cos(0.18029210803 + 949.4362414007 * t);
-        X0 += 0.00000003915 * Math.cos(4.27454859470 + 1596.1864422846 * t);
-        X0 += 0.00000004546 * Math.cos(6.17479319899 + 304.2342036999 * t);
-        X0 += 0.00000004593 * Math.cos(0.14821025071 + 1025.4416802454 * t);
-        X0 += 0.00000005309 * Math.cos(1.83025168176 + 10178.1214559898 * t);
-        X0 += 0.00000005106 * Math.cos(4.66521026314 + 244.318584075 * t);
-        X0 += 0.00000003943 * Math.cos(5.68046671600 + 983.1158589136 * t);
-        X0 += 0.00000003938 * Math.cos(2.13240475259 + 225.8292684102 * t);
-        X0 += 0.00000004451 * Math.cos(2.42081887138 + 31.9826964835 * t);
-        X0 += 0.00000005048 * Math.cos(3.95079504111 + 344.9636777388 * t);
-        X0 += 0.00000004075 * Math.cos(3.74781422402 + 381.6122406683 * t);
-        X0 += 0.00000004566 * Math.cos(2.52866726205 + 395.578702239 * t);
-        X0 += 0.00000004268 * Math.cos(2.59269065059 + 373.9079928365 * t);
-        X0 += 0.00000005380 * Math.cos(5.09445719710 + 822.8794685306 * t);
-        X0 += 0.00000003828 * Math.cos(2.28077620608 + 2138.4770163206 * t);
-        X0 += 0.00000004629 * Math.cos(0.97704654494 + 122.4758617607 * t);
-        X0 += 0.00000003798 * Math.cos(1.54874176080 + 356.9244017394 * t);
-        X0 += 0.00000004699 * Math.cos(5.86825441333 + 214.7835681463 * t);
-        X0 += 0.00000004711 * Math.cos(0.43747301673 + 52252.07235442399 * t);
-        X0 += 0.00000004135 * Math.cos(2.59411177803 + 502.8642621516 * t);
-        X0 += 0.00000004557 * Math.cos(1.38768168102 + 598.5346728287 * t);
-        X0 += 0.00000004181 * Math.cos(5.11735243081 + 566.600160455 * t);
-        X0 += 0.00000004508 * Math.cos(1.58263794497 + 454.9093665273 * t);
-        X0 += 0.00000004789 * Math.cos(2.68691233842 + 627.4789879264 * t);
-        X0 += 0.00000004021 * Math.cos(0.14455396364 + 6603.4743094157 * t);
-        X0 += 0.00000003998 * Math.cos(1.09645845612 + 404.6186649328 * t);
-        X0 += 0.00000005168 * Math.cos(4.77485406558 + 25520.07914084179 * t);
-        X0 += 0.00000004982 * Math.cos(0.79282576066 + 746.613397255 * t);
-        X0 += 0.00000004150 * Math.cos(3.86319378874 + 27.1992099585 * t);
-        X0 += 0.00000004801 * Math.cos(5.49483042971 + 14.6690369863 * t);
-        X0 += 0.00000003623 * Math.cos(2.29456392722 + 1665.3389665594 * t);
-        X0 += 0.00000004634 * Math.cos(1.79138092130 + 3227.6977924947 * t);
-        X0 += 0.00000003578 * Math.cos(3.41081414860 + 562.1467423301 * t);
-        X0 += 0.00000005002 * Math.cos(0.73296305202 + 207.3612046048 * t);
-        X0 += 0.00000004528 * Math.cos(0.00000058789 + 156.1554792736 * t);
-        X0 += 0.00000004557 * Math.cos(6.27517956469 + 25974.98850736909 * t);
-        X0 += 0.00000004482 * Math.cos(1.70549789369 + 342.3672393377 * t);
-        X0 += 0.00000004343 * Math.cos(0.66907601244 + 320.2758388099 * t);
-        X0 += 0.00000004304 * Math.cos(0.63784520720 + 12567.6361726911 * t);
-        X0 += 0.00000003477 * Math.cos(2.08101295124 + 665.2395165487 * t);
-        X0 += 0.00000004798 * Math.cos(5.23928869630 + 529.9515975255 * t);
-        X0 += 0.00000003640 * Math.cos(2.22735931846 + 2565.0752071966 * t);
-        X0 += 0.00000003563 * Math.cos(5.37461192631 + 12451.7525930694 * t);
-        X0 += 0.00000004754 * Math.cos(1.43687878008 + 6209.7787241324 * t);
-        X0 += 0.00000003524 * Math.cos(0.09982422546 + 116.5379709275 * t);
-        X0 += 0.00000003429 * Math.cos(4.73422293878 + 529.8028396792 * t);
-        X0 += 0.00000004288 * Math.cos(5.11733557108 + 23.9059416362 * t);
-        X0 += 0.00000003406 * Math.cos(5.88978743881 + 529.57909051 * t);
-        X0 += 0.00000004348 * Math.cos(1.52420534934 + 20312.17198550859 * t);
-        X0 += 0.00000004586 * Math.cos(5.24207029293 + 180.8433182025 * t);
-        X0 += 0.00000004280 * Math.cos(4.42469296513 + 274.6354972964 * t);
-        X0 += 0.00000003682 * Math.cos(5.50568401276 + 362.0322111701 * t);
-        X0 += 0.00000003789 * Math.cos(4.29352909475 + 3101.879719292 * t);
-        X0 += 0.00000003850 * Math.cos(5.92538233044 + 12564.6672272745 * t);
-        X0 += 0.00000003783 * Math.cos(0.26937653478 + 1614.4151255185 * t);
-        X0 += 0.00000003396 * Math.cos(5.57790342649 + 528.2064923863 * t);
-        X0 += 0.00000003904 * Math.cos(0.00422291412 + 370.0452755426 * t);
-        X0 += 0.00000003847 * Math.cos(4.08783535627 + 309.230138546 * t);
-        X0 += 0.00000004231 * Math.cos(5.35914188830 + 31.2801210679 * t);
-        X0 += 0.00000003745 * Math.cos(4.70896682883 + 1025.7023126763 * t);
-        X0 += 0.00000004577 * Math.cos(4.36691526897 + 26087.9031415742 * t);
-        X0 += 0.00000004284 * Math.cos(4.97414982566 + 396.5419100855 * t);
-        X0 += 0.00000003701 * Math.cos(4.85663387765 + 452.2010535416 * t);
-        X0 += 0.00000003347 * Math.cos(4.91535911747 + 20351.7894938547 * t);
-        X0 += 0.00000003395 * Math.cos(1.40872683921 + 524.0137066923 * t);
-        X0 += 0.00000003937 * Math.cos(1.24135990872 + 1617.3840709351 * t);
-        X0 += 0.00000003363 * Math.cos(2.31838707303 + 245.4942402426 * t);
-        X0 += 0.00000004440 * Math.cos(4.18041914955 + 490.3340891794 * t);
-        X0 += 0.00000004210 * Math.cos(3.40661968746 + 511.5954083047 * t);
-        X0 += 0.00000004189 * Math.cos(6.16499968875 + 101.6083015103 * t);
-        X0 += 0.00000003291 * Math.cos(1.79038639081 + 266.952501324 * t);
-        X0 += 0.00000003303 * Math.cos(1.16442176517 + 241.6102710893 * t);
-        X0 += 0.00000003260 * Math.cos(1.97534300235 + 537.7677199419 * t);
-        X0 += 0.00000004526 * Math.cos(4.55401830095 + 525.5463635104 * t);
-        X0 += 0.00000004095 * Math.cos(0.39427917449 + 355.4399290311 * t);
-        X0 += 0.00000003340 * Math.cos(1.53848524846 + 70.5888128733 * t);
-        X0 += 0.00000003337 * Math.cos(4.80809338870 + 358.4088744477 * t);
-        X0 += 0.00000004017 * Math.cos(5.38609718462 + 52174.32181044009 * t);
-        X0 += 0.00000003276 * Math.cos(1.95664041088 + 1306.621275571 * t);
-        X0 += 0.00000003413 * Math.cos(2.47241228275 + 95.931043108 * t);
-        X0 += 0.00000003855 * Math.cos(0.59056751589 + 518.3846323998 * t);
-        X0 += 0.00000003876 * Math.cos(4.34459044793 + 142.9709149956 * t);
-        X0 += 0.00000003214 * Math.cos(3.94236457757 + 20348.82054843809 * t);
-        X0 += 0.00000003190 * Math.cos(2.24966920840 + 282.1428031721 * t);
-        X0 += 0.00000003764 * Math.cos(4.32235978597 + 165.0835673828 * t);
-        X0 += 0.00000004430 * Math.cos(5.37916512247 + 529.4303326637 * t);
-        X0 += 0.00000004064 * Math.cos(1.03324547829 + 6130.5437074402 * t);
-        X0 += 0.00000003168 * Math.cos(2.29019531672 + 389.9496279465 * t);
-        X0 += 0.00000003270 * Math.cos(1.09904911575 + 78.4049352897 * t);
-        X0 += 0.00000003918 * Math.cos(4.20592331317 + 375.6743498351 * t);
-        X0 += 0.00000003674 * Math.cos(0.49264943249 + 183.7640795093 * t);
-        X0 += 0.00000004040 * Math.cos(5.13378490075 + 433.190473015 * t);
-        X0 += 0.00000004129 * Math.cos(3.44624039864 + 26048.28563322809 * t);
-        X0 += 0.00000004022 * Math.cos(1.72078809654 + 1477.5945496772 * t);
-        X0 += 0.00000004003 * Math.cos(4.72382540422 + 94.7553869404 * t);
-        X0 += 0.00000003490 * Math.cos(4.40733409487 + 326.4261779642 * t);
-        X0 += 0.00000003594 * Math.cos(6.06724074887 + 217.4436970222 * t);
-        X0 += 0.00000004060 * Math.cos(6.06087877396 + 51.6264164565 * t);
-        X0 += 0.00000003107 * Math.cos(5.38240325046 + 28.6836826668 * t);
-        X0 += 0.00000003298 * Math.cos(0.37071499296 + 102.523325247 * t);
-        X0 += 0.00000003259 * Math.cos(5.62261943256 + 658.1259695479 * t);
-        X0 += 0.00000003428 * Math.cos(1.24134798478 + 2351.7761117586 * t);
-        X0 += 0.00000003385 * Math.cos(0.30663786918 + 661.0949149645 * t);
-        X0 += 0.00000003446 * Math.cos(2.55581154573 + 1509.8378785916 * t);
-        X0 += 0.00000003299 * Math.cos(0.15502724919 + 1404.0849754971 * t);
-        X0 += 0.00000003278 * Math.cos(3.68951046288 + 942.0138778592 * t);
-        X0 += 0.00000003097 * Math.cos(1.38268112354 + 259.5088859231 * t);
-        X0 += 0.00000003173 * Math.cos(5.46641752741 + 1401.1160300805 * t);
-        X0 += 0.00000003195 * Math.cos(5.62363661230 + 353.301065017 * t);
-        X0 += 0.00000003696 * Math.cos(1.82603150668 + 14.5571624017 * t);
-        X0 += 0.00000004114 * Math.cos(5.50609992924 + 771.1042942278 * t);
-        X0 += 0.00000004114 * Math.cos(1.87436741693 + 1049.5600702027 * t);
-        X0 += 0.00000004012 * Math.cos(2.15080865585 + 52.3601296394 * t);
-        X0 += 0.00000004178 * Math.cos(4.90426814037 + 978.9230732196 * t);
-        X0 += 0.00000004200 * Math.cos(2.08730033523 + 943.4983505675 * t);
-        X0 += 0.00000003057 * Math.cos(4.32315122802 + 354.7855377253 * t);
-        X0 += 0.00000003505 * Math.cos(1.49229918444 + 458.8415197904 * t);
-        X0 += 0.00000003328 * Math.cos(0.06468317259 + 519.6084726772 * t);
-        X0 += 0.00000003022 * Math.cos(1.87271736515 + 460.5384408198 * t);
-        X0 += 0.00000003231 * Math.cos(4.61368527250 + 401.0647641796 * t);
-        X0 += 0.00000003726 * Math.cos(0.55317699448 + 1096.2429414398 * t);
-        X0 += 0.00000004101 * Math.cos(1.40890174425 + 875.830299001 * t);
-        X0 += 0.00000003792 * Math.cos(0.75463890542 + 111.6907939277 * t);
-        X0 += 0.00000003984 * Math.cos(5.40932060866 + 476.4313180835 * t);
-        X0 += 0.00000003839 * Math.cos(2.45651233746 + 10060.7534036598 * t);
-        X0 += 0.00000003475 * Math.cos(5.19319328694 + 325.3836482406 * t);
-        X0 += 0.00000003001 * Math.cos(5.62400423039 + 127.4717966068 * t);
-        X0 += 0.00000004113 * Math.cos(5.70053139080 + 141.4864422873 * t);
-        X0 += 0.00000004192 * Math.cos(0.29273630154 + 2772.7884259674 * t);
-        X0 += 0.00000003670 * Math.cos(1.51746404309 + 57.84619158 * t);
-        X0 += 0.00000002960 * Math.cos(2.20143035616 + 2461.982432978 * t);
-        X0 += 0.00000003331 * Math.cos(0.81282265497 + 10134.0505295188 * t);
-        X0 += 0.00000004044 * Math.cos(2.80116908409 + 25596.3452121174 * t);
-        X0 += 0.00000003310 * Math.cos(0.63021323746 + 1586.1039498672 * t);
-        X0 += 0.00000003012 * Math.cos(0.24750674481 + 347.3631741838 * t);
-        X0 += 0.00000003466 * Math.cos(4.73899873914 + 1151.168371713 * t);
-        X0 += 0.00000003184 * Math.cos(3.93786877135 + 554.0699874828 * t);
-        X0 += 0.00000002938 * Math.cos(0.92092579208 + 600.2797779679 * t);
-        X0 += 0.00000002951 * Math.cos(5.58078877076 + 33.7278016227 * t);
-        X0 += 0.00000002951 * Math.cos(5.04298380276 + 42.5382696529 * t);
-        X0 += 0.00000002924 * Math.cos(0.08510684138 + 394.0942295307 * t);
-        X0 += 0.00000003314 * Math.cos(1.64856662940 + 939.3537489833 * t);
-        X0 += 0.00000003031 * Math.cos(2.75127174781 + 156451.15277816958 * t);
-        X0 += 0.00000002967 * Math.cos(0.01380343554 + 6.1503391543 * t);
-        X0 += 0.00000002995 * Math.cos(3.55719578836 + 139.9537854692 * t);
-        X0 += 0.00000003250 * Math.cos(3.50402124851 + 709.0498105888 * t);
-        X0 += 0.00000003365 * Math.cos(1.74314879420 + 642.6055992997 * t);
-        X0 += 0.00000003420 * Math.cos(0.98621583591 + 302.7497309916 * t);
-        X0 += 0.00000003811 * Math.cos(3.32959588229 + 732.97125859 * t);
-        X0 += 0.00000003227 * Math.cos(1.44273528458 + 406.1031376411 * t);
-        X0 += 0.00000002994 * Math.cos(0.29888408610 + 6681.2248533996 * t);
-        X0 += 0.00000002917 * Math.cos(2.25862979793 + 83.3796182764 * t);
-        X0 += 0.00000003196 * Math.cos(5.84285969983 + 362.8622925726 * t);
-        X0 += 0.00000003158 * Math.cos(1.18152049723 + 539.773457512 * t);
-        X0 += 0.00000002810 * Math.cos(5.14801331317 + 1592.0418407004 * t);
-        X0 += 0.00000003159 * Math.cos(4.14441699779 + 197.7999770492 * t);
-        X0 += 0.00000003306 * Math.cos(6.11095094695 + 748.0978699633 * t);
-        X0 += 0.00000003823 * Math.cos(2.80947819413 + 10139.988420352 * t);
-        X0 += 0.00000003793 * Math.cos(0.88752668902 + 104.5772469269 * t);
-        X0 += 0.00000003750 * Math.cos(3.47948196612 + 235.0179889503 * t);
-        X0 += 0.00000003349 * Math.cos(1.74325912375 + 671.8317986877 * t);
-        X0 += 0.00000003752 * Math.cos(5.81571997623 + 303.6010642535 * t);
-        X0 += 0.00000002794 * Math.cos(1.88518054847 + 344.7030453079 * t);
-        X0 += 0.00000003227 * Math.cos(5.73842438744 + 6203.8408332992 * t);
-        X0 += 0.00000002780 * Math.cos(4.56507186185 + 285.1117485887 * t);
-        X0 += 0.00000002765 * Math.cos(2.32578307728 + 412.3710968744 * t);
-        X0 += 0.00000003509 * Math.cos(0.85163274980 + 1440.7335384266 * t);
-        X0 += 0.00000002906 * Math.cos(0.69691325438 + 175.820451106 * t);
-        X0 += 0.00000002773 * Math.cos(0.67900305993 + 341.7340998913 * t);
-        X0 += 0.00000003254 * Math.cos(6.24947816889 + 1019.7644218431 * t);
-        X0 += 0.00000003447 * Math.cos(3.53963683079 + 499.895316735 * t);
-        X0 += 0.00000003057 * Math.cos(1.34588220916 + 52.6901980395 * t);
-        X0 += 0.00000003057 * Math.cos(6.13629771077 + 23.5758732361 * t);
-        X0 += 0.00000002817 * Math.cos(3.26706196757 + 210.3783341312 * t);
-        X0 += 0.00000002934 * Math.cos(4.00235406128 + 79.889407998 * t);
-        X0 += 0.00000002724 * Math.cos(0.93671377498 + 22.9427337897 * t);
-        X0 += 0.00000002733 * Math.cos(3.50715929429 + 262.4778313397 * t);
-        X0 += 0.00000003357 * Math.cos(4.72658826456 + 1227.4344429886 * t);
-        X0 += 0.00000002841 * Math.cos(6.20044524987 + 622.9136952169 * t);
-        X0 += 0.00000002681 * Math.cos(1.11809321449 + 24.9484713598 * t);
-        X0 += 0.00000002817 * Math.cos(5.86922240468 + 450.7165808333 * t);
-        X0 += 0.00000002756 * Math.cos(3.02634259211 + 1476.1582610787 * t);
-        X0 += 0.00000003012 * Math.cos(0.23854632727 + 299.1263942692 * t);
-        X0 += 0.00000002964 * Math.cos(1.04680434048 + 488.5889840402 * t);
-        X0 += 0.00000003490 * Math.cos(2.85082275685 + 664.1275508559 * t);
-        X0 += 0.00000002933 * Math.cos(3.56739414458 + 1549.4553869377 * t);
-        X0 += 0.00000003112 * Math.cos(1.11035723120 + 525.2375469697 * t);
-        X0 += 0.00000003326 * Math.cos(2.12303836543 + 44.9859502077 * t);
-        X0 += 0.00000002774 * Math.cos(1.98967291895 + 56.6223513026 * t);
-        X0 += 0.00000002630 * Math.cos(1.12693493815 + 2751.5475996916 * t);
-        X0 += 0.00000002849 * Math.cos(5.95945882711 + 213.9534867438 * t);
-        X0 += 0.00000002619 * Math.cos(2.30223540587 + 521.6142102473 * t);
-        X0 += 0.00000003053 * Math.cos(3.21227175566 + 946.4672959841 * t);
-        X0 += 0.00000002696 * Math.cos(0.02934814329 + 170.7126416753 * t);
-        X0 += 0.00000003127 * Math.cos(3.04511447359 + 225.3080035484 * t);
-        X0 += 0.00000002815 * Math.cos(0.75877175602 + 1371.5810141518 * t);
-        X0 += 0.00000002700 * Math.cos(4.45466881016 + 963.4027029714 * t);
-        X0 += 0.00000003417 * Math.cos(3.07102354924 + 1055.1891444952 * t);
-        X0 += 0.00000003026 * Math.cos(0.53178244298 + 464.7312265138 * t);
-        X0 += 0.00000002777 * Math.cos(1.65856987776 + 238.6413256727 * t);
-        X0 += 0.00000002673 * Math.cos(4.60039823041 + 531.6967026647 * t);
-        X0 += 0.00000002677 * Math.cos(1.34892572100 + 673.8375362578 * t);
-        X0 += 0.00000002586 * Math.cos(1.81370129822 + 952.0963702766 * t);
-        X0 += 0.00000003089 * Math.cos(6.09015444975 + 340.5102596139 * t);
-        X0 += 0.00000002583 * Math.cos(6.14761245757 + 411.0990724872 * t);
-        X0 += 0.00000003011 * Math.cos(5.63133480804 + 638.1521811748 * t);
-        X0 += 0.00000003257 * Math.cos(1.52474283809 + 305.7186764082 * t);
-        X0 += 0.00000002639 * Math.cos(1.77948465499 + 1558.0534066468 * t);
-        X0 += 0.00000002647 * Math.cos(3.85259975875 + 418.2608035978 * t);
-        X0 += 0.00000003265 * Math.cos(1.54950325507 + 24.4908969728 * t);
-        X0 += 0.00000002938 * Math.cos(5.49430233325 + 1012.8633231634 * t);
-        X0 += 0.00000003134 * Math.cos(2.43567242699 + 959.2099172774 * t);
-        X0 += 0.00000002704 * Math.cos(4.48994870880 + 260.9933586314 * t);
-        X0 += 0.00000002644 * Math.cos(1.01962883809 + 508.3503240922 * t);
-        X0 += 0.00000002764 * Math.cos(4.98220772432 + 410.8384400563 * t);
-        X0 += 0.00000002541 * Math.cos(4.73625533432 + 908.3342603463 * t);
-        X0 += 0.00000002611 * Math.cos(4.07716780147 + 213.3472795478 * t);
-        X0 += 0.00000003445 * Math.cos(2.56425659412 + 891.3294173898 * t);
-        X0 += 0.00000002603 * Math.cos(0.81228898725 + 213.2509113282 * t);
-        X0 += 0.00000002766 * Math.cos(2.69251127285 + 57.7980074702 * t);
-        X0 += 0.00000002629 * Math.cos(0.50662483303 + 881.5075574033 * t);
-        X0 += 0.00000003149 * Math.cos(4.87348132813 + 227.9681324243 * t);
-        X0 += 0.00000003052 * Math.cos(3.24537522514 + 463.5073862364 * t);
-        X0 += 0.00000002969 * Math.cos(2.91028630885 + 482.9599097477 * t);
-        X0 += 0.00000002529 * Math.cos(0.59005799785 + 800.8362521126 * t);
-        X0 += 0.00000002814 * Math.cos(4.47170466011 + 288.0806940053 * t);
-        X0 += 0.00000002776 * Math.cos(5.74905232493 + 113.1270825262 * t);
-        X0 += 0.00000003048 * Math.cos(4.65674657724 + 473.4623726669 * t);
-        X0 += 0.00000002922 * Math.cos(1.12479586101 + 244.0097675343 * t);
-        X0 += 0.00000002607 * Math.cos(4.21790184644 + 1512.8068240082 * t);
-        X0 += 0.00000002591 * Math.cos(1.76339808480 + 1190.7858800591 * t);
-        X0 += 0.00000002485 * Math.cos(1.72931036722 + 393.5729646689 * t);
-        X0 += 0.00000003144 * Math.cos(0.01982679605 + 1504.2088042991 * t);
-        X0 += 0.00000002818 * Math.cos(3.61898689320 + 49.0668613171 * t);
-        X0 += 0.00000002466 * Math.cos(0.64176464596 + 203.7378678824 * t);
-        X0 += 0.00000003275 * Math.cos(2.20152854585 + 769.8167634756 * t);
-        X0 += 0.00000002471 * Math.cos(1.23010498360 + 411.3597049181 * t);
-        X0 += 0.00000003340 * Math.cos(3.12134960773 + 172.2452984934 * t);
-        X0 += 0.00000002972 * Math.cos(0.30228215717 + 569.0478410098 * t);
-        X0 += 0.00000003186 * Math.cos(1.74073125344 + 149.0419322728 * t);
-        X0 += 0.00000003367 * Math.cos(1.91743580007 + 20.0374788479 * t);
-        X0 += 0.00000002882 * Math.cos(0.03762702324 + 340.8827666294 * t);
-        X0 += 0.00000002660 * Math.cos(0.43081795741 + 573.4530750249 * t);
-        X0 += 0.00000002436 * Math.cos(4.39571941383 + 1625.7214582133 * t);
-        X0 += 0.00000002821 * Math.cos(5.66862729029 + 402.6922492398 * t);
-        X0 += 0.00000003412 * Math.cos(1.27006964431 + 772.5887669361 * t);
-        X0 += 0.00000003170 * Math.cos(0.53683800465 + 1011.3788504551 * t);
-        X0 += 0.00000002845 * Math.cos(4.17449695566 + 425.3743505986 * t);
-        X0 += 0.00000003402 * Math.cos(4.85307522182 + 89.9082099406 * t);
-        X0 += 0.00000003398 * Math.cos(3.55399056219 + 769.6198215195 * t);
-        X0 += 0.00000002437 * Math.cos(0.05670653494 + 189.8350967865 * t);
-        X0 += 0.00000003032 * Math.cos(4.25383054569 + 237.9869343669 * t);
-        X0 += 0.00000003400 * Math.cos(2.91219723907 + 533.8355666788 * t);
-        X0 += 0.00000002671 * Math.cos(2.67939607146 + 409.6627838887 * t);
-        X0 += 0.00000002771 * Math.cos(4.92893090510 + 608.877797677 * t);
-        X0 += 0.00000003091 * Math.cos(1.88244262661 + 379.0158022672 * t);
-        X0 += 0.00000003003 * Math.cos(5.65412222590 + 416.7763308895 * t);
-        X0 += 0.00000002397 * Math.cos(6.05494110587 + 841.8900490572 * t);
-        X0 += 0.00000003241 * Math.cos(6.13124318449 + 353.0404325861 * t);
-        X0 += 0.00000003176 * Math.cos(3.29731094880 + 301.1533836987 * t);
-        X0 += 0.00000003364 * Math.cos(4.63792927454 + 2849.054497243 * t);
-        X0 += 0.00000002613 * Math.cos(4.56119092841 + 561.8861098992 * t);
-        X0 += 0.00000002506 * Math.cos(5.01609439183 + 1447.8470854274 * t);
-        X0 += 0.00000003329 * Math.cos(5.91925424243 + 66.3960271793 * t);
-        X0 += 0.00000002503 * Math.cos(5.31932296128 + 1012.6508748423 * t);
-        X0 += 0.00000002698 * Math.cos(1.69371611112 + 78149.31031780918 * t);
-        X0 += 0.00000002607 * Math.cos(5.94788516174 + 1155.361157407 * t);
-        X0 += 0.00000002373 * Math.cos(4.96473366948 + 131.0951333292 * t);
-        X0 += 0.00000002850 * Math.cos(5.75651173443 + 316.6525020875 * t);
-        X0 += 0.00000002548 * Math.cos(5.85319231329 + 1624.236985505 * t);
-        X0 += 0.00000003326 * Math.cos(2.34088602919 + 346.1393339064 * t);
-        X0 += 0.00000002419 * Math.cos(6.00632380308 + 527.6852275245 * t);
-        X0 += 0.00000002628 * Math.cos(2.68041444146 + 305.3461693927 * t);
-        X0 += 0.00000002362 * Math.cos(5.34786616359 + 905.3653149297 * t);
-        X0 += 0.00000003116 * Math.cos(2.31725423336 + 6171.6456884946 * t);
-        X0 += 0.00000002735 * Math.cos(4.77197048747 + 1205.9761819072 * t);
-        X0 += 0.00000002351 * Math.cos(1.00989589789 + 487.6257761937 * t);
-        X0 += 0.00000003264 * Math.cos(0.98644966743 + 1507.1777497157 * t);
-        X0 += 0.00000002343 * Math.cos(5.30414272180 + 570.7447620392 * t);
-        X0 += 0.00000003242 * Math.cos(3.43781809479 + 978.6624407887 * t);
-        X0 += 0.00000002327 * Math.cos(1.94695161209 + 490.0734567485 * t);
-        X0 += 0.00000002871 * Math.cos(4.23439916590 + 154.6710065653 * t);
-        X0 += 0.00000002369 * Math.cos(4.33013696090 + 419.2240114443 * t);
-        X0 += 0.00000003035 * Math.cos(5.98225247299 + 330.6189636582 * t);
-        X0 += 0.00000002891 * Math.cos(5.96526238067 + 51.7751743028 * t);
-        X0 += 0.00000002345 * Math.cos(2.80678169901 + 454.1756533444 * t);
-        X0 += 0.00000002329 * Math.cos(1.75923687263 + 1477.642733787 * t);
-        X0 += 0.00000002340 * Math.cos(5.41993486888 + 452.6741342936 * t);
-        X0 += 0.00000002471 * Math.cos(5.85334195437 + 878.5386119867 * t);
-        X0 += 0.00000003119 * Math.cos(3.73163278907 + 1435.0562800243 * t);
-        X0 += 0.00000002460 * Math.cos(0.98834029380 + 173.6815870919 * t);
-        X0 += 0.00000003148 * Math.cos(5.33900856192 + 1122.8571960617 * t);
-        X0 += 0.00000002494 * Math.cos(0.79353995081 + 1187.8169346425 * t);
-        X0 += 0.00000002324 * Math.cos(0.85149013777 + 1515.7757694248 * t);
-        X0 += 0.00000003045 * Math.cos(4.58970934616 + 477.3308354552 * t);
-        X0 += 0.00000002701 * Math.cos(3.94900738069 + 2005.8492261733 * t);
-        X0 += 0.00000003122 * Math.cos(4.87352367476 + 1230.3552042954 * t);
-        X0 += 0.00000002809 * Math.cos(5.67078157868 + 317.8281582551 * t);
-        X0 += 0.00000002465 * Math.cos(2.75224963023 + 532.1386456494 * t);
-        X0 += 0.00000003209 * Math.cos(5.65172771419 + 15.1266113733 * t);
-        X0 += 0.00000002946 * Math.cos(6.27125306316 + 186.472392495 * t);
-        X0 += 0.00000002409 * Math.cos(1.16807097154 + 70.6369969831 * t);
-        X0 += 0.00000002546 * Math.cos(3.78661896416 + 422.7142217227 * t);
-        X0 += 0.00000002855 * Math.cos(6.04151843237 + 414.0680179038 * t);
-        X0 += 0.00000002992 * Math.cos(3.74091272105 + 10101.8553847142 * t);
-        X0 += 0.00000002722 * Math.cos(2.16495029711 + 49.4393683326 * t);
-        X0 += 0.00000002346 * Math.cos(0.85350513182 + 52137.67324751059 * t);
-        X0 += 0.00000002745 * Math.cos(1.25308857006 + 591.9423906897 * t);
-        X0 += 0.00000002251 * Math.cos(1.84603626039 + 22.8945496799 * t);
-        X0 += 0.00000002380 * Math.cos(0.86688341144 + 429.5189521828 * t);
-        X0 += 0.00000002655 * Math.cos(2.72088990937 + 484.3961983462 * t);
-        X0 += 0.00000003005 * Math.cos(3.02374335144 + 1929.5831548977 * t);
-        X0 += 0.00000002944 * Math.cos(5.80795120544 + 497.1870037493 * t);
-        X0 += 0.00000002290 * Math.cos(3.41119288308 + 455.4306313891 * t);
-        X0 += 0.00000002226 * Math.cos(2.09977732289 + 47.5823886088 * t);
-        X0 += 0.00000002380 * Math.cos(5.70190719886 + 398.6807740996 * t);
-        X0 += 0.00000002235 * Math.cos(4.93872079635 + 877.1023233882 * t);
-        X0 += 0.00000002965 * Math.cos(5.31321105098 + 451.9404211107 * t);
-        X0 += 0.00000002228 * Math.cos(0.14871984610 + 29.7474642498 * t);
-        X0 += 0.00000002719 * Math.cos(1.98957096467 + 177.8261886761 * t);
-        X0 += 0.00000002353 * Math.cos(2.64987133570 + 278.5194664497 * t);
-        X0 += 0.00000002999 * Math.cos(2.06886611056 + 1926.6142094811 * t);
-        X0 += 0.00000002695 * Math.cos(3.57859697492 + 6284.5603226997 * t);
-        X0 += 0.00000003103 * Math.cos(5.25954578672 + 859.5280314601 * t);
-        X0 += 0.00000002841 * Math.cos(1.89822722034 + 2080.6308247406 * t);
-        X0 += 0.00000002247 * Math.cos(4.99448806399 + 635.70450062 * t);
-        X0 += 0.00000002718 * Math.cos(3.94432671112 + 1082.0158474382 * t);
-        X0 += 0.00000002266 * Math.cos(3.32415490093 + 621.4774066184 * t);
-        X0 += 0.00000002805 * Math.cos(4.65550300998 + 1438.0252254409 * t);
-        X0 += 0.00000002204 * Math.cos(3.20467222541 + 443.1299530805 * t);
-        X0 += 0.00000002983 * Math.cos(2.11840545429 + 601.5036182453 * t);
-        X0 += 0.00000002983 * Math.cos(0.96467854341 + 783.2619601845 * t);
-        X0 += 0.00000002226 * Math.cos(6.16264010648 + 1189.3014073508 * t);
-        X0 += 0.00000002825 * Math.cos(5.72066778195 + 1131.1945833399 * t);
-        X0 += 0.00000002513 * Math.cos(2.67603480531 + 407.2151033339 * t);
-        X0 += 0.00000002449 * Math.cos(6.26391680561 + 545.2750258176 * t);
-        X0 += 0.00000002823 * Math.cos(1.28631955107 + 411.147256597 * t);
-        X0 += 0.00000002976 * Math.cos(1.45407959506 + 1014.3477958717 * t);
-        X0 += 0.00000002341 * Math.cos(1.72462609263 + 440.6822725257 * t);
-        X0 += 0.00000002148 * Math.cos(6.10633698376 + 248.7238180901 * t);
-        X0 += 0.00000002704 * Math.cos(4.82066135933 + 382.8360809457 * t);
-        X0 += 0.00000002370 * Math.cos(0.24236554874 + 132.8402384684 * t);
-        X0 += 0.00000002336 * Math.cos(4.17366212174 + 495.4900827199 * t);
-        X0 += 0.00000002232 * Math.cos(2.42169508541 + 158.3736651648 * t);
-        X0 += 0.00000002471 * Math.cos(3.93681150847 + 658.1896600227 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 330 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.00255840261 * Math.cos(2.01935686795 + 36.6485629295 * t);
-        X1 += 0.00243125299 * Math.cos(5.46214902873 + 39.6175083461 * t);
-        X1 += 0.00118398168 * Math.cos(2.88251845061 + 76.2660712756 * t);
-        X1 -= 0.00037965449;
-        X1 += 0.00021924705 * Math.cos(3.20156164152 + 35.1640902212 * t);
-        X1 += 0.00017459808 * Math.cos(4.26349398817 + 41.1019810544 * t);
-        X1 += 0.00013130617 * Math.cos(5.36424961848 + 2.9689454166 * t);
-        X1 += 0.00005086527 * Math.cos(1.92377354729 + 38.1330356378 * t);
-        X1 += 0.00004899718 * Math.cos(2.09349497813 + 73.297125859 * t);
-        X1 += 0.00002745267 * Math.cos(4.06252818667 + 77.7505439839 * t);
-        X1 += 0.00002204414 * Math.cos(4.38855639521 + 33.6796175129 * t);
-        X1 += 0.00002168719 * Math.cos(4.11768012563 + 4.4534181249 * t);
-        X1 += 0.00001572202 * Math.cos(1.07606611589 + 114.3991069134 * t);
-        X1 += 0.00001344022 * Math.cos(3.03802059051 + 42.5864537627 * t);
-        X1 += 0.00001285542 * Math.cos(6.02367554997 + 74.7815985673 * t);
-        X1 += 0.00000897458 * Math.cos(4.27066342082 + 426.598190876 * t);
-        X1 += 0.00000865247 * Math.cos(1.66600949831 + 37.611770776 * t);
-        X1 += 0.00000849963 * Math.cos(5.81599544749 + 38.6543004996 * t);
-        X1 += 0.00000920969 * Math.cos(3.34422970943 + 71.8126531507 * t);
-        X1 += 0.00000776345 * Math.cos(5.84688443216 + 206.1855484372 * t);
-        X1 += 0.00000753306 * Math.cos(5.33193950958 + 220.4126424388 * t);
-        X1 += 0.00000607837 * Math.cos(0.10459953392 + 1059.3819301892 * t);
-        X1 += 0.00000637551 * Math.cos(5.41077728291 + 1.4844727083 * t);
-        X1 += 0.00000571379 * Math.cos(2.43114575977 + 522.5774180938 * t);
-        X1 += 0.00000562755 * Math.cos(1.91445156016 + 536.8045120954 * t);
-        X1 += 0.00000501158 * Math.cos(1.71336416584 + 28.5718080822 * t);
-        X1 += 0.00000477774 * Math.cos(4.41606171374 + 98.8999885246 * t);
-        X1 += 0.00000454020 * Math.cos(1.71446347956 + 35.685355083 * t);
-        X1 += 0.00000410057 * Math.cos(5.76580004770 + 40.5807161926 * t);
-        X1 += 0.00000366899 * Math.cos(5.76755714114 + 47.6942631934 * t);
-        X1 += 0.00000301105 * Math.cos(2.88798068983 + 5.9378908332 * t);
-        X1 += 0.00000261005 * Math.cos(5.58341588259 + 32.1951448046 * t);
-        X1 += 0.00000208502 * Math.cos(4.50403508407 + 70.3281804424 * t);
-        X1 += 0.00000172634 * Math.cos(4.41668100139 + 33.9402499438 * t);
-        X1 += 0.00000156880 * Math.cos(2.59636158964 + 79.2350166922 * t);
-        X1 += 0.00000152545 * Math.cos(0.58200211092 + 30.0562807905 * t);
-        X1 += 0.00000150774 * Math.cos(3.03955693857 + 42.3258213318 * t);
-        X1 += 0.00000161730 * Math.cos(0.79247603617 + 31.019488637 * t);
-        X1 += 0.00000132841 * Math.cos(1.62575223921 + 8.0767548473 * t);
-        X1 += 0.00000134574 * Math.cos(0.39220827354 + 45.2465826386 * t);
-        X1 += 0.00000115906 * Math.cos(1.81847065740 + 44.070926471 * t);
-        X1 += 0.00000111639 * Math.cos(0.63975084587 + 46.2097904851 * t);
-        X1 += 0.00000110293 * Math.cos(6.26561040615 + 35.212274331 * t);
-        X1 += 0.00000100459 * Math.cos(1.21320933829 + 41.0537969446 * t);
-        X1 += 0.00000109047 * Math.cos(3.08916188250 + 112.9146342051 * t);
-        X1 += 0.00000088218 * Math.cos(4.22122102145 + 60.7669528868 * t);
-        X1 += 0.00000071814 * Math.cos(3.50553409888 + 639.897286314 * t);
-        X1 += 0.00000086328 * Math.cos(4.79840767320 + 419.4846438752 * t);
-        X1 += 0.00000053242 * Math.cos(4.46511748628 + 433.7117378768 * t);
-        X1 += 0.00000058139 * Math.cos(1.10799238288 + 213.299095438 * t);
-        X1 += 0.00000051114 * Math.cos(6.03439734344 + 111.4301614968 * t);
-        X1 += 0.00000051602 * Math.cos(4.02001213822 + 69.1525242748 * t);
-        X1 += 0.00000048159 * Math.cos(6.22092546220 + 2.9207613068 * t);
-        X1 += 0.00000042059 * Math.cos(1.68843052596 + 44.7253177768 * t);
-        X1 += 0.00000042530 * Math.cos(1.67291335129 + 7.4223635415 * t);
-        X1 += 0.00000039462 * Math.cos(5.84050948012 + 31.5407534988 * t);
-        X1 += 0.00000039310 * Math.cos(0.94345147546 + 12.5301729722 * t);
-        X1 += 0.00000044382 * Math.cos(0.44285052616 + 1589.0728952838 * t);
-        X1 += 0.00000037940 * Math.cos(2.73822096384 + 6.592282139 * t);
-        X1 += 0.00000037655 * Math.cos(5.98798322385 + 14.0146456805 * t);
-        X1 += 0.00000040840 * Math.cos(5.54850725123 + 109.9456887885 * t);
-        X1 += 0.00000036848 * Math.cos(2.85564848871 + 84.3428261229 * t);
-        X1 += 0.00000035231 * Math.cos(6.25325402099 + 274.0660483248 * t);
-        X1 += 0.00000036952 * Math.cos(5.72145792762 + 68.8437077341 * t);
-        X1 += 0.00000033599 * Math.cos(0.51632981099 + 30.7106720963 * t);
-        X1 += 0.00000038296 * Math.cos(4.30335137765 + 4.192785694 * t);
-        X1 += 0.00000031035 * Math.cos(2.95099562096 + 27.0873353739 * t);
-        X1 += 0.00000031316 * Math.cos(1.72930168942 + 1052.2683831884 * t);
-        X1 += 0.00000033024 * Math.cos(4.12684844940 + 529.6909650946 * t);
-        X1 += 0.00000030123 * Math.cos(2.33512708439 + 1066.49547719 * t);
-        X1 += 0.00000033084 * Math.cos(2.45856880831 + 115.8835796217 * t);
-        X1 += 0.00000033570 * Math.cos(6.04565758295 + 149.5631971346 * t);
-        X1 += 0.00000026640 * Math.cos(2.51311389510 + 24.1183899573 * t);
-        X1 += 0.00000025606 * Math.cos(0.22816942972 + 63.7358983034 * t);
-        X1 += 0.00000030543 * Math.cos(4.02100472961 + 22.633917249 * t);
-        X1 += 0.00000024422 * Math.cos(4.35428875793 + 106.0135355254 * t);
-        X1 += 0.00000022126 * Math.cos(1.26007098345 + 175.1660598002 * t);
-        X1 += 0.00000021126 * Math.cos(3.69351531859 + 316.3918696566 * t);
-        X1 += 0.00000019878 * Math.cos(1.01805826985 + 32.7164096664 * t);
-        X1 += 0.00000019870 * Math.cos(0.94595354813 + 5.4166259714 * t);
-        X1 += 0.00000019754 * Math.cos(4.49000211469 + 49.1787359017 * t);
-        X1 += 0.00000019249 * Math.cos(6.01423960566 + 6.9010986797 * t);
-        X1 += 0.00000022151 * Math.cos(4.48090838716 + 106.9767433719 * t);
-        X1 += 0.00000018175 * Math.cos(5.20159414999 + 227.5261894396 * t);
-        X1 += 0.00000016511 * Math.cos(2.54729348191 + 43.2408450685 * t);
-        X1 += 0.00000016978 * Math.cos(1.10703451835 + 91.7864415238 * t);
-        X1 += 0.00000016400 * Math.cos(5.02426125494 + 33.0252262071 * t);
-        X1 += 0.00000015948 * Math.cos(1.13749320372 + 25.6028626656 * t);
-        X1 += 0.00000017239 * Math.cos(0.18394173571 + 11.3063326948 * t);
-        X1 += 0.00000018246 * Math.cos(3.22627946510 + 72.0732855816 * t);
-        X1 += 0.00000015590 * Math.cos(5.48957045033 + 39.405060025 * t);
-        X1 += 0.00000015590 * Math.cos(1.99260946960 + 36.8610112506 * t);
-        X1 += 0.00000015469 * Math.cos(0.19931734817 + 43.5496616092 * t);
-        X1 += 0.00000016590 * Math.cos(2.76837407696 + 33.4671691918 * t);
-        X1 += 0.00000019347 * Math.cos(5.63496726797 + 152.5321425512 * t);
-        X1 += 0.00000015976 * Math.cos(1.65044105294 + 62.2514255951 * t);
-        X1 += 0.00000015454 * Math.cos(2.75555291329 + 319.3126309634 * t);
-        X1 += 0.00000015621 * Math.cos(0.66768589768 + 9.5612275556 * t);
-        X1 += 0.00000016781 * Math.cos(3.20518911865 + 305.0855369618 * t);
-        X1 += 0.00000013461 * Math.cos(3.85768784107 + 82.8583534146 * t);
-        X1 += 0.00000015069 * Math.cos(1.17614399880 + 79.1868325824 * t);
-        X1 += 0.00000014471 * Math.cos(0.40529532028 + 108.4612160802 * t);
-        X1 += 0.00000012925 * Math.cos(1.10364222975 + 110.2063212194 * t);
-        X1 += 0.00000012587 * Math.cos(2.36455613905 + 11.0457002639 * t);
-        X1 += 0.00000012751 * Math.cos(0.61425113640 + 45.5553991793 * t);
-        X1 += 0.00000012373 * Math.cos(2.42103444520 + 31.2319369581 * t);
-        X1 += 0.00000013293 * Math.cos(4.71511953086 + 42.7989020838 * t);
-        X1 += 0.00000012713 * Math.cos(2.51675177510 + 515.463871093 * t);
-        X1 += 0.00000010966 * Math.cos(3.53790147295 + 100.3844612329 * t);
-        X1 += 0.00000011029 * Math.cos(3.82526067822 + 5.1078094307 * t);
-        X1 += 0.00000011724 * Math.cos(6.10907426925 + 632.7837393132 * t);
-        X1 += 0.00000011199 * Math.cos(1.46876166558 + 415.2918581812 * t);
-        X1 += 0.00000010323 * Math.cos(2.47237024135 + 97.4155158163 * t);
-        X1 += 0.00000011362 * Math.cos(1.53250494310 + 129.9194771616 * t);
-        X1 += 0.00000010927 * Math.cos(5.58985591811 + 137.0330241624 * t);
-        X1 += 0.00000009923 * Math.cos(0.25123326620 + 70.8494453042 * t);
-        X1 += 0.00000009718 * Math.cos(5.65627708700 + 251.4321310758 * t);
-        X1 += 0.00000012616 * Math.cos(3.21303317878 + 7.1135470008 * t);
-        X1 += 0.00000009448 * Math.cos(5.95770870657 + 199.0720014364 * t);
-        X1 += 0.00000010632 * Math.cos(4.66474891406 + 143.6253063014 * t);
-        X1 += 0.00000007793 * Math.cos(5.87477576214 + 103.0927742186 * t);
-        X1 += 0.00000008691 * Math.cos(3.86130716302 + 32.5039613453 * t);
-        X1 += 0.00000007714 * Math.cos(5.08135063656 + 65.2203710117 * t);
-        X1 += 0.00000008073 * Math.cos(1.80602845404 + 543.9180590962 * t);
-        X1 += 0.00000007336 * Math.cos(5.00488818837 + 15.4991183888 * t);
-        X1 += 0.00000007226 * Math.cos(6.10800925637 + 949.1756089698 * t);
-        X1 += 0.00000009601 * Math.cos(0.96952666662 + 80.7194894005 * t);
-        X1 += 0.00000008129 * Math.cos(1.06292478045 + 532.8723588323 * t);
-        X1 += 0.00000008080 * Math.cos(3.27046517129 + 526.5095713569 * t);
-        X1 += 0.00000007826 * Math.cos(4.02401038086 + 76.7873361374 * t);
-        X1 += 0.00000007134 * Math.cos(3.62090129613 + 43.7621099303 * t);
-        X1 += 0.00000007924 * Math.cos(6.12971551056 + 75.7448064138 * t);
-        X1 += 0.00000007698 * Math.cos(0.17875116228 + 14.2270940016 * t);
-        X1 += 0.00000006105 * Math.cos(1.54425967217 + 69.3649725959 * t);
-        X1 += 0.00000006646 * Math.cos(5.79555279451 + 105.4922706636 * t);
-        X1 += 0.00000005999 * Math.cos(0.85410630839 + 64.9597385808 * t);
-        X1 += 0.00000005760 * Math.cos(1.96229416439 + 449.232108125 * t);
-        X1 += 0.00000006294 * Math.cos(0.53403647313 + 66.70484372 * t);
-        X1 += 0.00000006423 * Math.cos(5.04711326278 + 678.0303219518 * t);
-        X1 += 0.00000005483 * Math.cos(4.29890655108 + 42.0651889009 * t);
-        X1 += 0.00000005483 * Math.cos(3.18327336885 + 34.2008823747 * t);
-        X1 += 0.00000005472 * Math.cos(2.84388107337 + 853.196381752 * t);
-        X1 += 0.00000006239 * Math.cos(5.78066557799 + 17.5261078183 * t);
-        X1 += 0.00000005195 * Math.cos(5.09726520266 + 209.3669421749 * t);
-        X1 += 0.00000005134 * Math.cos(6.10351481994 + 217.2312487011 * t);
-        X1 += 0.00000005325 * Math.cos(4.39759585927 + 19.0105805266 * t);
-        X1 += 0.00000005928 * Math.cos(5.59840511102 + 146.594251718 * t);
-        X1 += 0.00000005857 * Math.cos(1.07253151439 + 144.1465711632 * t);
-        X1 += 0.00000004910 * Math.cos(5.04787179940 + 45.0341343175 * t);
-        X1 += 0.00000005250 * Math.cos(4.87798799534 + 0.9632078465 * t);
-        X1 += 0.00000004802 * Math.cos(3.33573258260 + 39.0962434843 * t);
-        X1 += 0.00000004731 * Math.cos(2.77828322823 + 36.1272980677 * t);
-        X1 += 0.00000004731 * Math.cos(1.56230403811 + 40.1387732079 * t);
-        X1 += 0.00000005910 * Math.cos(6.11806155370 + 6168.676743078 * t);
-        X1 += 0.00000004700 * Math.cos(6.23394740585 + 50.66320861 * t);
-        X1 += 0.00000005127 * Math.cos(0.06950186450 + 141.1776257466 * t);
-        X1 += 0.00000005322 * Math.cos(3.67014675991 + 1104.6285128278 * t);
-        X1 += 0.00000004891 * Math.cos(1.27934912329 + 525.4981794006 * t);
-        X1 += 0.00000004758 * Math.cos(3.96240682898 + 323.5054166574 * t);
-        X1 += 0.00000004984 * Math.cos(3.03175558664 + 1090.4014188262 * t);
-        X1 += 0.00000004689 * Math.cos(1.24271093395 + 1067.9799498983 * t);
-        X1 += 0.00000005562 * Math.cos(1.26403171450 + 10098.8864392976 * t);
-        X1 += 0.00000004554 * Math.cos(4.70928992460 + 310.7146112543 * t);
-        X1 += 0.00000005456 * Math.cos(4.82255320187 + 180.2738692309 * t);
-        X1 += 0.00000004432 * Math.cos(2.40637892199 + 415.5524906121 * t);
-        X1 += 0.00000005811 * Math.cos(1.70824669110 + 1409.7140497896 * t);
-        X1 += 0.00000004436 * Math.cos(6.17265977038 + 235.933012687 * t);
-        X1 += 0.00000004285 * Math.cos(5.97555084089 + 1050.7839104801 * t);
-        X1 += 0.00000004088 * Math.cos(5.45738792077 + 423.4167971383 * t);
-        X1 += 0.00000005027 * Math.cos(4.43953393933 + 21.4582610814 * t);
-        X1 += 0.00000004383 * Math.cos(1.45471238269 + 463.5073862364 * t);
-        X1 += 0.00000004109 * Math.cos(1.73853839233 + 416.7763308895 * t);
-        X1 += 0.00000004002 * Math.cos(5.01459502178 + 216.4804891757 * t);
-        X1 += 0.00000004013 * Math.cos(1.39690454418 + 104275.34649502118 * t);
-        X1 += 0.00000003962 * Math.cos(4.02083994540 + 979.1837056505 * t);
-        X1 += 0.00000003933 * Math.cos(6.18107968107 + 210.1177017003 * t);
-        X1 += 0.00000003944 * Math.cos(3.78374455005 + 119.5069163441 * t);
-        X1 += 0.00000005073 * Math.cos(3.58206440503 + 1498.5797300066 * t);
-        X1 += 0.00000004227 * Math.cos(1.48710021916 + 534.1443832195 * t);
-        X1 += 0.00000004054 * Math.cos(4.02883092677 + 429.7795846137 * t);
-        X1 += 0.00000004154 * Math.cos(3.55675550682 + 518.3846323998 * t);
-        X1 += 0.00000003893 * Math.cos(2.68408756029 + 200.7689224658 * t);
-        X1 += 0.00000004367 * Math.cos(1.71153576533 + 58.7399634573 * t);
-        X1 += 0.00000005128 * Math.cos(2.54279972354 + 10175.1525105732 * t);
-        X1 += 0.00000004422 * Math.cos(1.14605401219 + 291.7040307277 * t);
-        X1 += 0.00000004039 * Math.cos(3.79988856423 + 1623.0131452276 * t);
-        X1 += 0.00000004823 * Math.cos(2.78490253436 + 418.0001711669 * t);
-        X1 += 0.00000003653 * Math.cos(5.08334267684 + 1131.4552157708 * t);
-        X1 += 0.00000003718 * Math.cos(0.22957714216 + 1065.0110044817 * t);
-        X1 += 0.00000004093 * Math.cos(3.83316780565 + 2.4476805548 * t);
-        X1 += 0.00000003651 * Math.cos(2.25318014325 + 1127.2624300768 * t);
-        X1 += 0.00000003663 * Math.cos(0.70030067491 + 1558.0534066468 * t);
-        X1 += 0.00000004130 * Math.cos(3.77699431657 + 95.9792272178 * t);
-        X1 += 0.00000004729 * Math.cos(3.76762082532 + 420.9691165835 * t);
-        X1 += 0.00000004053 * Math.cos(3.31682258179 + 921.0768816396 * t);
-        X1 += 0.00000003490 * Math.cos(5.25996362598 + 987.0480121767 * t);
-        X1 += 0.00000003715 * Math.cos(6.02152182000 + 254.3528923826 * t);
-        X1 += 0.00000003488 * Math.cos(1.23861460695 + 187.6962327724 * t);
-        X1 += 0.00000003781 * Math.cos(6.03707098362 + 142.1408335931 * t);
-        X1 += 0.00000003538 * Math.cos(3.09032216842 + 57.255490749 * t);
-        X1 += 0.00000003838 * Math.cos(1.99819885333 + 980.146913497 * t);
-        X1 += 0.00000003312 * Math.cos(0.35984652911 + 1543.8263126452 * t);
-        X1 += 0.00000004048 * Math.cos(4.68172394542 + 979.9344651759 * t);
-        X1 += 0.00000004414 * Math.cos(3.57495160384 + 1062.3508756058 * t);
-        X1 += 0.00000003347 * Math.cos(5.70639230166 + 151.0476698429 * t);
-        X1 += 0.00000003619 * Math.cos(3.00430391803 + 647.0108333148 * t);
-        X1 += 0.00000003396 * Math.cos(1.65466087062 + 29.226199388 * t);
-        X1 += 0.00000003269 * Math.cos(3.89052626844 + 173.6815870919 * t);
-        X1 += 0.00000003292 * Math.cos(0.34317097377 + 807.9497991134 * t);
-        X1 += 0.00000003353 * Math.cos(3.87387665600 + 10289.5516174866 * t);
-        X1 += 0.00000003214 * Math.cos(2.40790041435 + 569.3084734407 * t);
-        X1 += 0.00000003353 * Math.cos(3.19691958235 + 157.6399519819 * t);
-        X1 += 0.00000003205 * Math.cos(5.22491937078 + 275.5505210331 * t);
-        X1 += 0.00000003339 * Math.cos(3.69633473042 + 443.3424014016 * t);
-        X1 += 0.00000003188 * Math.cos(1.05808548340 + 361.3778198643 * t);
-        X1 += 0.00000003156 * Math.cos(4.66487374477 + 432.0842528166 * t);
-        X1 += 0.00000003814 * Math.cos(1.96828078057 + 449.2802922348 * t);
-        X1 += 0.00000003757 * Math.cos(3.59915858611 + 296.1574488526 * t);
-        X1 += 0.00000003253 * Math.cos(2.44863579444 + 485.9288551643 * t);
-        X1 += 0.00000003708 * Math.cos(3.41997179462 + 67.8804998876 * t);
-        X1 += 0.00000003138 * Math.cos(5.35146333173 + 347.3631741838 * t);
-        X1 += 0.00000003111 * Math.cos(1.23256444922 + 1014.1353475506 * t);
-        X1 += 0.00000003273 * Math.cos(0.62821512161 + 67.3592350258 * t);
-        X1 += 0.00000003429 * Math.cos(1.11562664280 + 735.8765135318 * t);
-        X1 += 0.00000003075 * Math.cos(3.24417591182 + 392.6579409322 * t);
-        X1 += 0.00000003139 * Math.cos(4.67078123701 + 159.1244246902 * t);
-        X1 += 0.00000003466 * Math.cos(1.90283209224 + 2145.5905633214 * t);
-        X1 += 0.00000003286 * Math.cos(3.39700457012 + 435.1962105851 * t);
-        X1 += 0.00000003365 * Math.cos(5.23578168473 + 480.251596762 * t);
-        X1 += 0.00000003226 * Math.cos(0.77463438425 + 104.0077979553 * t);
-        X1 += 0.00000003016 * Math.cos(1.64369849580 + 525.7588118315 * t);
-        X1 += 0.00000002982 * Math.cos(2.69381043134 + 533.6231183577 * t);
-        X1 += 0.00000003004 * Math.cos(3.95534262032 + 1055.1891444952 * t);
-        X1 += 0.00000003610 * Math.cos(3.04477218983 + 54.8078101942 * t);
-        X1 += 0.00000002917 * Math.cos(5.91998842985 + 117.3198682202 * t);
-        X1 += 0.00000003307 * Math.cos(0.01423748255 + 215.4379594521 * t);
-        X1 += 0.00000002940 * Math.cos(4.36795909810 + 385.4962098216 * t);
-        X1 += 0.00000003945 * Math.cos(2.79969659377 + 59.2824801785 * t);
-        X1 += 0.00000002968 * Math.cos(2.85170581645 + 613.070583371 * t);
-        X1 += 0.00000003097 * Math.cos(0.90779595391 + 1471.7530270636 * t);
-        X1 += 0.00000003097 * Math.cos(2.85041412828 + 1395.486955788 * t);
-        X1 += 0.00000003954 * Math.cos(3.86301765432 + 113.1270825262 * t);
-        X1 += 0.00000003013 * Math.cos(3.06603983213 + 120.9913890524 * t);
-        X1 += 0.00000003254 * Math.cos(1.06070967217 + 26.826702943 * t);
-        X1 += 0.00000003015 * Math.cos(4.16456065382 + 180.7951340927 * t);
-        X1 += 0.00000003195 * Math.cos(1.29465154302 + 53.653405886 * t);
-        X1 += 0.00000002827 * Math.cos(1.93939794239 + 429.5671362926 * t);
-        X1 += 0.00000003348 * Math.cos(5.12244556536 + 6284.5603226997 * t);
-        X1 += 0.00000003192 * Math.cos(3.12235363786 + 659.6104422562 * t);
-        X1 += 0.00000002884 * Math.cos(0.87269814613 + 384.2723695442 * t);
-        X1 += 0.00000002825 * Math.cos(2.88754308804 + 222.8603229936 * t);
-        X1 += 0.00000003228 * Math.cos(0.42456565829 + 52.3601296394 * t);
-        X1 += 0.00000002903 * Math.cos(5.26633115425 + 202.2533951741 * t);
-        X1 += 0.00000003229 * Math.cos(1.43633693191 + 1050.9963588012 * t);
-        X1 += 0.00000002969 * Math.cos(4.62299601646 + 494.4786907636 * t);
-        X1 += 0.00000003293 * Math.cos(4.55907332992 + 389.9496279465 * t);
-        X1 += 0.00000003021 * Math.cos(1.39291744542 + 328.3525936572 * t);
-        X1 += 0.00000002728 * Math.cos(2.36980566306 + 432.2272651685 * t);
-        X1 += 0.00000003171 * Math.cos(0.25949973316 + 10214.7700189193 * t);
-        X1 += 0.00000002674 * Math.cos(0.72178755844 + 158.3736651648 * t);
-        X1 += 0.00000002900 * Math.cos(5.80036387854 + 559.2259810233 * t);
-        X1 += 0.00000002631 * Math.cos(5.78145236431 + 2008.557539159 * t);
-        X1 += 0.00000002746 * Math.cos(2.70236789350 + 326.4261779642 * t);
-        X1 += 0.00000002613 * Math.cos(1.03972751145 + 181.7583419392 * t);
-        X1 += 0.00000002578 * Math.cos(0.39826319336 + 395.578702239 * t);
-        X1 += 0.00000002972 * Math.cos(5.82390511647 + 986.0848043302 * t);
-        X1 += 0.00000002889 * Math.cos(3.27140995337 + 493.0424021651 * t);
-        X1 += 0.00000003058 * Math.cos(1.52176908977 + 6281.5913772831 * t);
-        X1 += 0.00000002662 * Math.cos(5.96768311032 + 77.2292791221 * t);
-        X1 += 0.00000002851 * Math.cos(4.47719750517 + 186.472392495 * t);
-        X1 += 0.00000002689 * Math.cos(0.34466085474 + 742.9900605326 * t);
-        X1 += 0.00000002597 * Math.cos(2.61768111732 + 10213.285546211 * t);
-        X1 += 0.00000003036 * Math.cos(0.45935275351 + 947.9517686924 * t);
-        X1 += 0.00000002545 * Math.cos(1.75453755938 + 135.5485514541 * t);
-        X1 += 0.00000002832 * Math.cos(4.50108476662 + 419.7452763061 * t);
-        X1 += 0.00000002876 * Math.cos(2.10216025772 + 844.810810364 * t);
-        X1 += 0.00000003317 * Math.cos(1.96174488177 + 500.1559491659 * t);
-        X1 += 0.00000002633 * Math.cos(4.56986397211 + 351.8165923087 * t);
-        X1 += 0.00000003228 * Math.cos(0.62756457944 + 23.9059416362 * t);
-        X1 += 0.00000003031 * Math.cos(4.13021586758 + 406.1031376411 * t);
-        X1 += 0.00000002905 * Math.cos(5.28583709714 + 573.4530750249 * t);
-        X1 += 0.00000002821 * Math.cos(2.57918372241 + 830.5837163624 * t);
-        X1 += 0.00000003321 * Math.cos(2.30535884361 + 450.2435000813 * t);
-        X1 += 0.00000003117 * Math.cos(3.17172825469 + 457.5694954032 * t);
-        X1 += 0.00000002905 * Math.cos(2.94721635384 + 10211.8010735027 * t);
-        X1 += 0.00000002459 * Math.cos(2.17148212862 + 450.9772132642 * t);
-        X1 += 0.00000002634 * Math.cos(1.77671637215 + 946.4672959841 * t);
-        X1 += 0.00000002454 * Math.cos(4.84991028942 + 195.7729876197 * t);
-        X1 += 0.00000002649 * Math.cos(2.48860749245 + 425.3743505986 * t);
-        X1 += 0.00000002552 * Math.cos(1.80363120718 + 1062.5633239269 * t);
-        X1 += 0.00000003008 * Math.cos(0.87346015647 + 255.0554677982 * t);
-        X1 += 0.00000002387 * Math.cos(3.61269624808 + 654.1243803156 * t);
-        X1 += 0.00000002439 * Math.cos(6.16956725964 + 462.9861213746 * t);
-        X1 += 0.00000002496 * Math.cos(4.85342512068 + 147.1155165798 * t);
-        X1 += 0.00000002382 * Math.cos(1.69880476699 + 176.6505325085 * t);
-        X1 += 0.00000002542 * Math.cos(2.61921706713 + 481.4754370394 * t);
-        X1 += 0.00000002365 * Math.cos(4.31555837151 + 107.2855599126 * t);
-        X1 += 0.00000002440 * Math.cos(2.91303067806 + 525.2375469697 * t);
-        X1 += 0.00000002595 * Math.cos(1.90092784171 + 85.8272988312 * t);
-        X1 += 0.00000002469 * Math.cos(3.87144882031 + 707.7777862016 * t);
-        X1 += 0.00000003120 * Math.cos(5.91740925150 + 456.6062875567 * t);
-        X1 += 0.00000002587 * Math.cos(0.02225757299 + 401.0647641796 * t);
-        X1 += 0.00000002364 * Math.cos(3.05940926328 + 562.1467423301 * t);
-        X1 += 0.00000003011 * Math.cos(0.76186974874 + 2118.7638603784 * t);
-        X1 += 0.00000002464 * Math.cos(3.73409380833 + 141.4864422873 * t);
-        X1 += 0.00000002261 * Math.cos(4.82065961888 + 644.090072008 * t);
-        X1 += 0.00000002305 * Math.cos(4.50071607030 + 103.3534066495 * t);
-        X1 += 0.00000002890 * Math.cos(3.55796481313 + 834.7765020564 * t);
-        X1 += 0.00000002896 * Math.cos(2.29071785178 + 1685.0521225016 * t);
-        X1 += 0.00000002247 * Math.cos(1.68393756499 + 172.1971143836 * t);
-        X1 += 0.00000003162 * Math.cos(3.56274388676 + 594.6507036754 * t);
-        X1 += 0.00000002330 * Math.cos(5.29361089740 + 118.0224436358 * t);
-        X1 += 0.00000002303 * Math.cos(4.39822090888 + 2080.6308247406 * t);
-        X1 += 0.00000002845 * Math.cos(4.98553259670 + 216.9224321604 * t);
-        X1 += 0.00000002249 * Math.cos(0.46641290866 + 381.3516082374 * t);
-        X1 += 0.00000002388 * Math.cos(5.32433039951 + 598.8434893694 * t);
-        X1 += 0.00000002325 * Math.cos(4.96634833764 + 443.1299530805 * t);
-        X1 += 0.00000002406 * Math.cos(0.99201934800 + 248.4631856592 * t);
-        X1 += 0.00000002550 * Math.cos(3.02131610984 + 186.2117600641 * t);
-        X1 += 0.00000002494 * Math.cos(5.74497783529 + 457.617679513 * t);
-        X1 += 0.00000002233 * Math.cos(5.94425595046 + 709.0498105888 * t);
-        X1 += 0.00000002338 * Math.cos(4.30382783057 + 210.3301500214 * t);
-        X1 += 0.00000002661 * Math.cos(0.55742494786 + 313.6835566709 * t);
-        X1 += 0.00000002261 * Math.cos(3.67500719544 + 29.7474642498 * t);
-        X1 += 0.00000002581 * Math.cos(1.20121862874 + 134.1122628556 * t);
-        X1 += 0.00000002300 * Math.cos(0.62755528396 + 986.2972526513 * t);
-        X1 += 0.00000002201 * Math.cos(2.78496364835 + 605.9570363702 * t);
-        X1 += 0.00000002160 * Math.cos(0.97578185075 + 666.723989257 * t);
-        X1 += 0.00000002601 * Math.cos(2.58714323338 + 363.5166838784 * t);
-        X1 += 0.00000002510 * Math.cos(3.00871814837 + 411.147256597 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 102 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00005371138;
-        X2 += 0.00004536283 * Math.cos(5.02700751836 + 36.6485629295 * t);
-        X2 += 0.00004350766 * Math.cos(2.45420254304 + 39.6175083461 * t);
-        X2 += 0.00003092965 * Math.cos(0.62250463031 + 38.1330356378 * t);
-        X2 += 0.00002163703 * Math.cos(1.79218168368 + 76.2660712756 * t);
-        X2 += 0.00000390868 * Math.cos(5.67643483980 + 35.1640902212 * t);
-        X2 += 0.00000301339 * Math.cos(1.81737258860 + 41.1019810544 * t);
-        X2 += 0.00000204562 * Math.cos(2.46637556893 + 2.9689454166 * t);
-        X2 += 0.00000159748 * Math.cos(1.25894343852 + 206.1855484372 * t);
-        X2 += 0.00000155792 * Math.cos(3.62416667860 + 220.4126424388 * t);
-        X2 += 0.00000117879 * Math.cos(4.12696937896 + 522.5774180938 * t);
-        X2 += 0.00000114478 * Math.cos(0.05970217764 + 35.685355083 * t);
-        X2 += 0.00000112891 * Math.cos(0.21785515638 + 536.8045120954 * t);
-        X2 += 0.00000105947 * Math.cos(1.13935993640 + 40.5807161926 * t);
-        X2 += 0.00000097352 * Math.cos(2.42483475969 + 213.299095438 * t);
-        X2 += 0.00000065425 * Math.cos(2.49175973094 + 426.598190876 * t);
-        X2 += 0.00000058848 * Math.cos(0.36832119544 + 33.6796175129 * t);
-        X2 += 0.00000076870 * Math.cos(5.28254959871 + 529.6909650946 * t);
-        X2 += 0.00000075617 * Math.cos(5.00631742776 + 73.297125859 * t);
-        X2 += 0.00000042438 * Math.cos(1.72858209444 + 4.4534181249 * t);
-        X2 += 0.00000038852 * Math.cos(5.13030751581 + 1059.3819301892 * t);
-        X2 += 0.00000038264 * Math.cos(0.89872407937 + 42.5864537627 * t);
-        X2 += 0.00000037332 * Math.cos(3.25119732842 + 74.7815985673 * t);
-        X2 += 0.00000035530 * Math.cos(6.14443151264 + 98.8999885246 * t);
-        X2 += 0.00000035469 * Math.cos(2.49879881601 + 31.019488637 * t);
-        X2 += 0.00000031377 * Math.cos(3.39614780530 + 28.5718080822 * t);
-        X2 += 0.00000029746 * Math.cos(4.97662789524 + 45.2465826386 * t);
-        X2 += 0.00000033708 * Math.cos(0.17905425482 + 114.3991069134 * t);
-        X2 += 0.00000024149 * Math.cos(4.08389627261 + 47.6942631934 * t);
-        X2 += 0.00000014232 * Math.cos(2.74053779935 + 433.7117378768 * t);
-        X2 += 0.00000013387 * Math.cos(5.67702783503 + 71.8126531507 * t);
-        X2 += 0.00000013214 * Math.cos(0.40945689746 + 419.4846438752 * t);
-        X2 += 0.00000013244 * Math.cos(6.12117040896 + 60.7669528868 * t);
-        X2 += 0.00000010889 * Math.cos(6.06268907903 + 33.9402499438 * t);
-        X2 += 0.00000009240 * Math.cos(1.66639270669 + 639.897286314 * t);
-        X2 += 0.00000009255 * Math.cos(1.47588015526 + 42.3258213318 * t);
-        X2 += 0.00000009574 * Math.cos(5.80039438832 + 69.1525242748 * t);
-        X2 += 0.00000007364 * Math.cos(3.49773961260 + 227.5261894396 * t);
-        X2 += 0.00000007182 * Math.cos(1.45190405642 + 32.1951448046 * t);
-        X2 += 0.00000008529 * Math.cos(1.50841252342 + 7.1135470008 * t);
-        X2 += 0.00000006548 * Math.cos(2.27346931818 + 30.0562807905 * t);
-        X2 += 0.00000006351 * Math.cos(0.79204424945 + 1066.49547719 * t);
-        X2 += 0.00000006676 * Math.cos(4.85540898830 + 258.5456780766 * t);
-        X2 += 0.00000005636 * Math.cos(6.20411302010 + 8.0767548473 * t);
-        X2 += 0.00000005587 * Math.cos(3.60928099230 + 1052.2683831884 * t);
-        X2 += 0.00000007261 * Math.cos(0.17295213925 + 1097.514965827 * t);
-        X2 += 0.00000005245 * Math.cos(6.05612030557 + 44.070926471 * t);
-        X2 += 0.00000005419 * Math.cos(1.81242809053 + 106.0135355254 * t);
-        X2 += 0.00000005082 * Math.cos(5.15938723406 + 46.2097904851 * t);
-        X2 += 0.00000005095 * Math.cos(4.20474597849 + 515.463871093 * t);
-        X2 += 0.00000004497 * Math.cos(1.00605030530 + 77.7505439839 * t);
-        X2 += 0.00000004688 * Math.cos(2.52139140874 + 221.8971151471 * t);
-        X2 += 0.00000005379 * Math.cos(5.86338428053 + 22.633917249 * t);
-        X2 += 0.00000004607 * Math.cos(4.89101822521 + 549.4041210368 * t);
-        X2 += 0.00000004013 * Math.cos(5.56337824570 + 1589.0728952838 * t);
-        X2 += 0.00000004257 * Math.cos(5.51428448379 + 204.7010757289 * t);
-        X2 += 0.00000003916 * Math.cos(0.21419237233 + 207.6700211455 * t);
-        X2 += 0.00000004043 * Math.cos(1.22069947050 + 199.0720014364 * t);
-        X2 += 0.00000004041 * Math.cos(4.96590021637 + 305.0855369618 * t);
-        X2 += 0.00000003733 * Math.cos(1.01856203412 + 319.3126309634 * t);
-        X2 += 0.00000004831 * Math.cos(1.26416720319 + 214.7835681463 * t);
-        X2 += 0.00000003396 * Math.cos(2.79106131830 + 357.4456666012 * t);
-        X2 += 0.00000004181 * Math.cos(2.68977197250 + 944.9828232758 * t);
-        X2 += 0.00000003328 * Math.cos(0.10428240806 + 543.9180590962 * t);
-        X2 += 0.00000003184 * Math.cos(1.26982259369 + 103.0927742186 * t);
-        X2 += 0.00000004015 * Math.cos(5.61887239730 + 532.8723588323 * t);
-        X2 += 0.00000003288 * Math.cos(1.44958811131 + 408.1783111804 * t);
-        X2 += 0.00000003971 * Math.cos(5.00117639319 + 526.5095713569 * t);
-        X2 += 0.00000003252 * Math.cos(3.23869149834 + 129.9194771616 * t);
-        X2 += 0.00000003340 * Math.cos(0.65707077966 + 531.1754378029 * t);
-        X2 += 0.00000003932 * Math.cos(3.66246303483 + 91.7864415238 * t);
-        X2 += 0.00000004202 * Math.cos(6.23259715436 + 312.1990839626 * t);
-        X2 += 0.00000002967 * Math.cos(1.04477632375 + 860.3099287528 * t);
-        X2 += 0.00000003232 * Math.cos(6.17114444671 + 381.3516082374 * t);
-        X2 += 0.00000003974 * Math.cos(2.04911285469 + 336.1050255988 * t);
-        X2 += 0.00000002824 * Math.cos(0.97334571055 + 666.723989257 * t);
-        X2 += 0.00000002892 * Math.cos(2.20180750253 + 395.578702239 * t);
-        X2 += 0.00000003008 * Math.cos(0.14288636846 + 343.2185725996 * t);
-        X2 += 0.00000002999 * Math.cos(1.27873117021 + 937.869276275 * t);
-        X2 += 0.00000002700 * Math.cos(1.72730755228 + 274.0660483248 * t);
-        X2 += 0.00000003346 * Math.cos(4.64302623913 + 1162.4747044078 * t);
-        X2 += 0.00000002937 * Math.cos(1.58157160137 + 235.933012687 * t);
-        X2 += 0.00000002582 * Math.cos(0.48526698652 + 1073.6090241908 * t);
-        X2 += 0.00000002698 * Math.cos(1.69470540963 + 1014.1353475506 * t);
-        X2 += 0.00000002525 * Math.cos(6.16854621620 + 26.826702943 * t);
-        X2 += 0.00000002542 * Math.cos(4.22296666068 + 1265.5674786264 * t);
-        X2 += 0.00000002750 * Math.cos(1.76657551757 + 563.6312150384 * t);
-        X2 += 0.00000002684 * Math.cos(5.74017908638 + 454.9093665273 * t);
-        X2 += 0.00000002503 * Math.cos(0.34100010690 + 425.1137181677 * t);
-        X2 += 0.00000002502 * Math.cos(3.15722703913 + 209.3669421749 * t);
-        X2 += 0.00000002509 * Math.cos(1.74412311687 + 217.2312487011 * t);
-        X2 += 0.00000002430 * Math.cos(1.71657698790 + 453.424893819 * t);
-        X2 += 0.00000002617 * Math.cos(5.33445521302 + 952.0963702766 * t);
-        X2 += 0.00000002548 * Math.cos(2.04428426743 + 990.2294059144 * t);
-        X2 += 0.00000002948 * Math.cos(2.96095474902 + 149.5631971346 * t);
-        X2 += 0.00000002343 * Math.cos(1.93598481849 + 981.6313862053 * t);
-        X2 += 0.00000002501 * Math.cos(1.67413189665 + 669.6447505638 * t);
-        X2 += 0.00000002637 * Math.cos(5.26103624829 + 175.1660598002 * t);
-        X2 += 0.00000002481 * Math.cos(5.56753943853 + 655.4176565622 * t);
-        X2 += 0.00000002569 * Math.cos(4.22624598741 + 464.7312265138 * t);
-        X2 += 0.00000002273 * Math.cos(5.59760233612 + 491.5579294568 * t);
-        X2 += 0.00000002790 * Math.cos(1.90430778774 + 487.3651437628 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 33 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00000192703 * Math.cos(0.83849647680 + 36.6485629295 * t);
-        X3 += 0.00000182218 * Math.cos(0.36067577276 + 39.6175083461 * t);
-        X3 += 0.00000180880;
-        X3 += 0.00000131073 * Math.cos(3.72972175765 + 38.1330356378 * t);
-        X3 += 0.00000085922 * Math.cos(0.42809925886 + 76.2660712756 * t);
-        X3 += 0.00000022385 * Math.cos(2.97347581802 + 206.1855484372 * t);
-        X3 += 0.00000021976 * Math.cos(1.93069967198 + 35.1640902212 * t);
-        X3 += 0.00000021096 * Math.cos(1.89846458211 + 220.4126424388 * t);
-        X3 += 0.00000019807 * Math.cos(5.55148029927 + 41.1019810544 * t);
-        X3 += 0.00000016219 * Math.cos(5.84881169623 + 522.5774180938 * t);
-        X3 += 0.00000015816 * Math.cos(4.78518014084 + 536.8045120954 * t);
-        X3 += 0.00000013456 * Math.cos(0.03079036523 + 7.1135470008 * t);
-        X3 += 0.00000006772 * Math.cos(1.19678873353 + 69.1525242748 * t);
-        X3 += 0.00000004517 * Math.cos(3.28893171686 + 45.2465826386 * t);
-        X3 += 0.00000004523 * Math.cos(4.18701361894 + 31.019488637 * t);
-        X3 += 0.00000003656 * Math.cos(0.60147675763 + 968.888764912 * t);
-        X3 += 0.00000003608 * Math.cos(1.40249586983 + 98.8999885246 * t);
-        X3 += 0.00000003452 * Math.cos(0.68243992107 + 426.598190876 * t);
-        X3 += 0.00000003303 * Math.cos(2.07889949921 + 498.6714764576 * t);
-        X3 += 0.00000003199 * Math.cos(1.67328032210 + 1519.920371009 * t);
-        X3 += 0.00000003498 * Math.cos(3.27477583513 + 408.1783111804 * t);
-        X3 += 0.00000003304 * Math.cos(2.24746558473 + 422.405405182 * t);
-        X3 += 0.00000002689 * Math.cos(0.89931829838 + 440.8252848776 * t);
-        X3 += 0.00000002639 * Math.cos(0.45729158440 + 305.0855369618 * t);
-        X3 += 0.00000002646 * Math.cos(5.61686631803 + 462.0229135281 * t);
-        X3 += 0.00000002542 * Math.cos(5.76347988377 + 444.8268741099 * t);
-        X3 += 0.00000002473 * Math.cos(5.63336776666 + 319.3126309634 * t);
-        X3 += 0.00000002482 * Math.cos(0.76026715845 + 433.7117378768 * t);
-        X3 += 0.00000002357 * Math.cos(0.46206172917 + 447.7958195265 * t);
-        X3 += 0.00000002875 * Math.cos(5.22512426905 + 853.196381752 * t);
-        X3 += 0.00000002279 * Math.cos(4.63710471266 + 459.0539681115 * t);
-        X3 += 0.00000003062 * Math.cos(3.11781513902 + 484.444382456 * t);
-        X3 += 0.00000002147 * Math.cos(2.63610173419 + 175.1660598002 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 7 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00000004229 * Math.cos(1.43244844928 + 515.463871093 * t);
-        X4 += 0.00000004334 * Math.cos(5.41647101628 + 433.7117378768 * t);
-        X4 += 0.00000003547 * Math.cos(5.75562173057 + 990.2294059144 * t);
-        X4 += 0.00000003155 * Math.cos(4.85323856001 + 467.6519878206 * t);
-        X4 += 0.00000003017 * Math.cos(0.06478433196 + 227.5261894396 * t);
-        X4 += 0.00000002298 * Math.cos(4.70991228641 + 206.1855484372 * t);
-        X4 += 0.00000002249 * Math.cos(0.15040734848 + 220.4126424388 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 1 term of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000000000;
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 746 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 30.06056351665 * Math.cos(3.74086294714 + 38.1330356378 * t);
-        Y0 -= 0.30205857683;
-        Y0 += 0.13506391797 * Math.cos(1.92953034883 + 76.2660712756 * t);
-        Y0 += 0.15706589373 * Math.cos(4.82539970129 + 36.6485629295 * t);
-        Y0 += 0.14936165806 * Math.cos(5.79694900665 + 39.6175083461 * t);
-        Y0 += 0.02584250749 * Math.cos(0.42549700754 + 1.4844727083 * t);
-        Y0 += 0.01073739772 * Math.cos(3.81371728533 + 74.7815985673 * t);
-        Y0 += 0.00815187583 * Math.cos(5.49429775826 + 2.9689454166 * t);
-        Y0 += 0.00582199295 * Math.cos(6.19633718936 + 35.1640902212 * t);
-        Y0 += 0.00565576412 * Math.cos(4.41843009015 + 41.1019810544 * t);
-        Y0 += 0.00495581047 * Math.cos(5.31205825784 + 529.6909650946 * t);
-        Y0 += 0.00304525203 * Math.cos(5.11048113661 + 73.297125859 * t);
-        Y0 += 0.00272640298 * Math.cos(5.58603690785 + 213.299095438 * t);
-        Y0 += 0.00135897385 * Math.cos(3.97553750964 + 77.7505439839 * t);
-        Y0 += 0.00090970871 * Math.cos(0.11783619888 + 114.3991069134 * t);
-        Y0 += 0.00068790261 * Math.cos(4.26391997151 + 4.4534181249 * t);
-        Y0 += 0.00028893355 * Math.cos(3.21848975032 + 42.5864537627 * t);
-        Y0 += 0.00020081559 * Math.cos(1.19787916085 + 33.6796175129 * t);
-        Y0 += 0.00012613583 * Math.cos(1.99777332934 + 112.9146342051 * t);
-        Y0 += 0.00012828708 * Math.cos(1.16740053443 + 111.4301614968 * t);
-        Y0 += 0.00012012961 * Math.cos(5.66157563804 + 1059.3819301892 * t);
-        Y0 += 0.00008768580 * Math.cos(3.23487156950 + 108.4612160802 * t);
-        Y0 += 0.00007581788 * Math.cos(4.81169168396 + 426.598190876 * t);
-        Y0 += 0.00006439265 * Math.cos(3.05453259951 + 5.9378908332 * t);
-        Y0 += 0.00005297978 * Math.cos(0.79002313990 + 71.8126531507 * t);
-        Y0 += 0.00004650708 * Math.cos(4.81540983294 + 37.611770776 * t);
-        Y0 += 0.00004733483 * Math.cos(2.52620194642 + 79.2350166922 * t);
-        Y0 += 0.00004557247 * Math.cos(5.80951552318 + 38.6543004996 * t);
-        Y0 += 0.00004322550 * Math.cos(0.80665145881 + 38.084851528 * t);
-        Y0 += 0.00004315539 * Math.cos(3.53393506841 + 38.1812197476 * t);
-        Y0 += 0.00004089036 * Math.cos(0.42349446479 + 37.1698277913 * t);
-        Y0 += 0.00004247643 * Math.cos(4.06355336504 + 28.5718080822 * t);
-        Y0 += 0.00003932515 * Math.cos(3.91607592815 + 39.0962434843 * t);
-        Y0 += 0.00003930135 * Math.cos(3.86614178174 + 98.8999885246 * t);
-        Y0 += 0.00003323991 * Math.cos(3.11674274385 + 4.192785694 * t);
-        Y0 += 0.00003112636 * Math.cos(0.27319642944 + 47.6942631934 * t);
-        Y0 += 0.00003373281 * Math.cos(3.39616255650 + 145.1097790097 * t);
-        Y0 += 0.00002670944 * Math.cos(2.31235275416 + 109.9456887885 * t);
-        Y0 += 0.00002523042 * Math.cos(6.23400745185 + 312.1990839626 * t);
-        Y0 += 0.00001888827 * Math.cos(1.63364331324 + 35.685355083 * t);
-        Y0 += 0.00001647474 * Math.cos(2.50010254963 + 30.0562807905 * t);
-        Y0 += 0.00001826390 * Math.cos(2.00938305966 + 44.070926471 * t);
-        Y0 += 0.00001967147 * Math.cos(2.56634772532 + 206.1855484372 * t);
-        Y0 += 0.00001681258 * Math.cos(2.70480318579 + 40.5807161926 * t);
-        Y0 += 0.00001533383 * Math.cos(5.88971113590 + 38.0211610532 * t);
-        Y0 += 0.00001894261 * Math.cos(5.46274825258 + 220.4126424388 * t);
-        Y0 += 0.00001527526 * Math.cos(4.73412534395 + 38.2449102224 * t);
-        Y0 += 0.00002086907 * Math.cos(6.28313624461 + 149.5631971346 * t);
-        Y0 += 0.00002057794 * Math.cos(4.38552505781 + 137.0330241624 * t);
-        Y0 += 0.00001720954 * Math.cos(4.49400805134 + 106.9767433719 * t);
-        Y0 += 0.00001314116 * Math.cos(1.80386443362 + 46.2097904851 * t);
-        Y0 += 0.00001732739 * Math.cos(4.14518500834 + 70.3281804424 * t);
-        Y0 += 0.00001559193 * Math.cos(5.27114846878 + 37.8724032069 * t);
-        Y0 += 0.00001545705 * Math.cos(5.35267669439 + 38.3936680687 * t);
-        Y0 += 0.00001435274 * Math.cos(5.44292013172 + 522.5774180938 * t);
-        Y0 += 0.00001404991 * Math.cos(2.04611088339 + 536.8045120954 * t);
-        Y0 += 0.00001242929 * Math.cos(1.10242173566 + 33.9402499438 * t);
-        Y0 += 0.00001388024 * Math.cos(2.14792830412 + 115.8835796217 * t);
-        Y0 += 0.00001467042 * Math.cos(3.56226463770 + 181.7583419392 * t);
-        Y0 += 0.00001227926 * Math.cos(1.21334651843 + 72.0732855816 * t);
-        Y0 += 0.00001080807 * Math.cos(3.18401661435 + 42.3258213318 * t);
-        Y0 += 0.00001111708 * Math.cos(5.51669920239 + 8.0767548473 * t);
-        Y0 += 0.00001237027 * Math.cos(1.08622199668 + 148.0787244263 * t);
-        Y0 += 0.00000722015 * Math.cos(4.59722014658 + 152.5321425512 * t);
-        Y0 += 0.00000608825 * Math.cos(2.92430662163 + 35.212274331 * t);
-        Y0 += 0.00000730763 * Math.cos(4.66633801542 + 143.6253063014 * t);
-        Y0 += 0.00000631807 * Math.cos(1.84632009649 + 7.4223635415 * t);
-        Y0 += 0.00000553106 * Math.cos(1.41499357343 + 41.0537969446 * t);
-        Y0 += 0.00000685011 * Math.cos(3.73017585433 + 218.4069048687 * t);
-        Y0 += 0.00000463231 * Math.cos(1.17324835377 + 31.5407534988 * t);
-        Y0 += 0.00000515088 * Math.cos(1.92209565801 + 0.9632078465 * t);
-        Y0 += 0.00000436148 * Math.cos(6.01177332586 + 1589.0728952838 * t);
-        Y0 += 0.00000390093 * Math.cos(0.79231945944 + 6.592282139 * t);
-        Y0 += 0.00000349284 * Math.cos(4.32031199243 + 60.7669528868 * t);
-        Y0 += 0.00000321807 * Math.cos(3.29433287410 + 44.7253177768 * t);
-        Y0 += 0.00000349862 * Math.cos(0.19787949770 + 0.5212648618 * t);
-        Y0 += 0.00000393916 * Math.cos(3.78100833011 + 31.019488637 * t);
-        Y0 += 0.00000316348 * Math.cos(1.38572032630 + 419.4846438752 * t);
-        Y0 += 0.00000349029 * Math.cos(4.83858968730 + 180.2738692309 * t);
-        Y0 += 0.00000343010 * Math.cos(5.48051962983 + 68.8437077341 * t);
-        Y0 += 0.00000382160 * Math.cos(1.78928133965 + 487.3651437628 * t);
-        Y0 += 0.00000295855 * Math.cos(0.17950850812 + 110.2063212194 * t);
-        Y0 += 0.00000295930 * Math.cos(3.61173094894 + 84.3428261229 * t);
-        Y0 += 0.00000336173 * Math.cos(0.57726127805 + 45.2465826386 * t);
-        Y0 += 0.00000257398 * Math.cos(4.11483645770 + 32.1951448046 * t);
-        Y0 += 0.00000306710 * Math.cos(4.06192922264 + 639.897286314 * t);
-        Y0 += 0.00000334170 * Math.cos(3.90094190194 + 255.0554677982 * t);
-        Y0 += 0.00000268060 * Math.cos(1.73772593259 + 36.7604375141 * t);
-        Y0 += 0.00000264760 * Math.cos(2.55644401603 + 39.5056337615 * t);
-        Y0 += 0.00000316497 * Math.cos(1.14702826286 + 388.4651552382 * t);
-        Y0 += 0.00000227226 * Math.cos(6.16115950447 + 274.0660483248 * t);
-        Y0 += 0.00000306177 * Math.cos(0.18466278211 + 6283.0758499914 * t);
-        Y0 += 0.00000284905 * Math.cos(1.78974042607 + 12.5301729722 * t);
-        Y0 += 0.00000269131 * Math.cos(3.43524554279 + 103.0927742186 * t);
-        Y0 += 0.00000249102 * Math.cos(5.73547996252 + 105.4922706636 * t);
-        Y0 += 0.00000252180 * Math.cos(5.24389175498 + 27.0873353739 * t);
-        Y0 += 0.00000242394 * Math.cos(0.49323094252 + 14.0146456805 * t);
-        Y0 += 0.00000226119 * Math.cos(1.26707727523 + 80.7194894005 * t);
-        Y0 += 0.00000265738 * Math.cos(5.67029686231 + 944.9828232758 * t);
-        Y0 += 0.00000213341 * Math.cos(1.07801273826 + 316.3918696566 * t);
-        Y0 += 0.00000190279 * Math.cos(0.75836937752 + 69.1525242748 * t);
-        Y0 += 0.00000202599 * Math.cos(2.17083509018 + 415.2918581812 * t);
-        Y0 += 0.00000193212 * Math.cos(2.53839692499 + 146.594251718 * t);
-        Y0 += 0.00000176465 * Math.cos(4.85970219043 + 36.5366883449 * t);
-        Y0 += 0.00000202771 * Math.cos(4.96195983984 + 175.1660598002 * t);
-        Y0 += 0.00000175209 * Math.cos(5.83814563218 + 39.7293829307 * t);
-        Y0 += 0.00000178926 * Math.cos(5.00860456688 + 216.9224321604 * t);
-        Y0 += 0.00000142340 * Math.cos(3.85429789127 + 75.7448064138 * t);
-        Y0 += 0.00000158140 * Math.cos(3.25169431065 + 11.0457002639 * t);
-        Y0 += 0.00000146954 * Math.cos(0.12002838388 + 151.0476698429 * t);
-        Y0 += 0.00000178005 * Math.cos(1.60950059216 + 10213.285546211 * t);
-        Y0 += 0.00000152465 * Math.cos(0.17890470659 + 30.7106720963 * t);
-        Y0 += 0.00000168895 * Math.cos(2.50893462160 + 63.7358983034 * t);
-        Y0 += 0.00000121226 * Math.cos(3.53504657259 + 37.9205873167 * t);
-        Y0 += 0.00000129049 * Math.cos(2.23605298372 + 36.8610112506 * t);
-        Y0 += 0.00000120580 * Math.cos(0.82135679727 + 38.3454839589 * t);
-        Y0 += 0.00000168916 * Math.cos(4.06766309411 + 291.7040307277 * t);
-        Y0 += 0.00000121139 * Math.cos(6.20886903488 + 33.0252262071 * t);
-        Y0 += 0.00000129291 * Math.cos(0.79819261590 + 45.5553991793 * t);
-        Y0 += 0.00000144727 * Math.cos(5.34205062943 + 49.1787359017 * t);
-        Y0 += 0.00000140927 * Math.cos(3.81630631334 + 62.2514255951 * t);
-        Y0 += 0.00000122915 * Math.cos(2.10353868683 + 39.405060025 * t);
-        Y0 += 0.00000154987 * Math.cos(0.18057956757 + 77.2292791221 * t);
-        Y0 += 0.00000106636 * Math.cos(2.14652349217 + 5.1078094307 * t);
-        Y0 += 0.00000127651 * Math.cos(1.61797740136 + 24.1183899573 * t);
-        Y0 += 0.00000103774 * Math.cos(5.23985408179 + 82.8583534146 * t);
-        Y0 += 0.00000103541 * Math.cos(3.68555193560 + 40.8413486235 * t);
-        Y0 += 0.00000104338 * Math.cos(0.71903696521 + 35.4247226521 * t);
-        Y0 += 0.00000112775 * Math.cos(5.91862646573 + 142.1408335931 * t);
-        Y0 += 0.00000112383 * Math.cos(3.99009058088 + 632.7837393132 * t);
-        Y0 += 0.00000104958 * Math.cos(4.69015786357 + 433.7117378768 * t);
-        Y0 += 0.00000085104 * Math.cos(3.21938618950 + 36.4361146084 * t);
-        Y0 += 0.00000096668 * Math.cos(4.59988425972 + 1052.2683831884 * t);
-        Y0 += 0.00000084714 * Math.cos(1.24083880355 + 106.0135355254 * t);
-        Y0 += 0.00000080200 * Math.cos(1.12120105955 + 39.8299566672 * t);
-        Y0 += 0.00000080651 * Math.cos(4.46119779414 + 43.2408450685 * t);
-        Y0 += 0.00000106990 * Math.cos(4.73100569276 + 1162.4747044078 * t);
-        Y0 += 0.00000095561 * Math.cos(5.17989417251 + 253.5709950899 * t);
-        Y0 += 0.00000090519 * Math.cos(1.18870250904 + 65.2203710117 * t);
-        Y0 += 0.00000086636 * Math.cos(1.72075571690 + 32.7164096664 * t);
-        Y0 += 0.00000072027 * Math.cos(4.82605488845 + 36.6967470393 * t);
-        Y0 += 0.00000088318 * Math.cos(5.41825797102 + 183.2428146475 * t);
-        Y0 += 0.00000098752 * Math.cos(4.10402325327 + 453.424893819 * t);
-        Y0 += 0.00000088317 * Math.cos(6.06004454477 + 251.4321310758 * t);
-        Y0 += 0.00000076684 * Math.cos(3.73090414964 + 5.4166259714 * t);
-        Y0 += 0.00000093279 * Math.cos(5.68894100641 + 219.891377577 * t);
-        Y0 += 0.00000065264 * Math.cos(3.45003589917 + 22.633917249 * t);
-        Y0 += 0.00000068913 * Math.cos(2.38969239855 + 1066.49547719 * t);
-        Y0 += 0.00000089782 * Math.cos(4.22695019307 + 328.3525936572 * t);
-        Y0 += 0.00000086785 * Math.cos(3.43022621793 + 2.9207613068 * t);
-        Y0 += 0.00000063401 * Math.cos(2.48145559824 + 66.70484372 * t);
-        Y0 += 0.00000065816 * Math.cos(6.14059953900 + 36.1272980677 * t);
-        Y0 += 0.00000061018 * Math.cos(1.59674687797 + 9.5612275556 * t);
-        Y0 += 0.00000070037 * Math.cos(2.66080141001 + 43.5496616092 * t);
-        Y0 += 0.00000079478 * Math.cos(1.84510198490 + 97.4155158163 * t);
-        Y0 += 0.00000078248 * Math.cos(2.49403717232 + 2.4476805548 * t);
-        Y0 += 0.00000062933 * Math.cos(0.64057863200 + 8.9068362498 * t);
-        Y0 += 0.00000073954 * Math.cos(3.98099646145 + 2.7083129857 * t);
-        Y0 += 0.00000055373 * Math.cos(2.87254473285 + 949.1756089698 * t);
-        Y0 += 0.00000066880 * Math.cos(2.36643058062 + 6.9010986797 * t);
-        Y0 += 0.00000071436 * Math.cos(3.63061707587 + 662.531203563 * t);
-        Y0 += 0.00000050999 * Math.cos(6.24103150567 + 81.3738807063 * t);
-        Y0 += 0.00000057112 * Math.cos(5.59708369933 + 15.4991183888 * t);
-        Y0 += 0.00000050175 * Math.cos(5.79472499755 + 36.9091953604 * t);
-        Y0 += 0.00000056658 * Math.cos(6.09916963696 + 178.7893965226 * t);
-        Y0 += 0.00000066787 * Math.cos(1.86141242753 + 846.0828347512 * t);
-        Y0 += 0.00000067769 * Math.cos(2.31387508230 + 224.3447957019 * t);
-        Y0 += 0.00000066579 * Math.cos(5.88081965598 + 256.5399405065 * t);
-        Y0 += 0.00000049126 * Math.cos(5.99676989074 + 19.0105805266 * t);
-        Y0 += 0.00000049655 * Math.cos(0.48945385113 + 67.3592350258 * t);
-        Y0 += 0.00000045696 * Math.cos(0.60387908345 + 117.36805233 * t);
-        Y0 += 0.00000053146 * Math.cos(5.35170219678 + 290.2195580194 * t);
-        Y0 += 0.00000043867 * Math.cos(5.60452581270 + 3.9321532631 * t);
-        Y0 += 0.00000042302 * Math.cos(0.99480139810 + 350.3321196004 * t);
-        Y0 += 0.00000044133 * Math.cos(0.68971110137 + 32.5039613453 * t);
-        Y0 += 0.00000038369 * Math.cos(5.07841592272 + 39.3568759152 * t);
-        Y0 += 0.00000037226 * Math.cos(1.76949738974 + 449.232108125 * t);
-        Y0 += 0.00000049103 * Math.cos(4.38398749958 + 365.0011565867 * t);
-        Y0 += 0.00000046730 * Math.cos(1.20387014851 + 184.7272873558 * t);
-        Y0 += 0.00000038213 * Math.cos(4.99269256462 + 75.3028634291 * t);
-        Y0 += 0.00000038164 * Math.cos(3.66287288490 + 43.7621099303 * t);
-        Y0 += 0.00000047265 * Math.cos(4.61356211189 + 3340.6124266998 * t);
-        Y0 += 0.00000042228 * Math.cos(4.07611308238 + 76.7873361374 * t);
-        Y0 += 0.00000039999 * Math.cos(5.33062554241 + 525.4981794006 * t);
-        Y0 += 0.00000035247 * Math.cos(4.92005791007 + 34.5096989154 * t);
-        Y0 += 0.00000036370 * Math.cos(0.59701725550 + 70.8494453042 * t);
-        Y0 += 0.00000034352 * Math.cos(5.79528055074 + 33.4671691918 * t);
-        Y0 += 0.00000043442 * Math.cos(4.64758593749 + 221.3758502853 * t);
-        Y0 += 0.00000034934 * Math.cos(3.58611441149 + 3.6233367224 * t);
-        Y0 += 0.00000043747 * Math.cos(0.65030388705 + 1021.2488945514 * t);
-        Y0 += 0.00000042143 * Math.cos(4.16070477408 + 310.7146112543 * t);
-        Y0 += 0.00000031032 * Math.cos(3.07192392014 + 34.2008823747 * t);
-        Y0 += 0.00000038644 * Math.cos(0.74635128857 + 50.66320861 * t);
-        Y0 += 0.00000043440 * Math.cos(6.05926343808 + 293.188503436 * t);
-        Y0 += 0.00000039137 * Math.cos(1.18677641846 + 17.5261078183 * t);
-        Y0 += 0.00000042792 * Math.cos(2.99005867070 + 563.6312150384 * t);
-        Y0 += 0.00000038592 * Math.cos(5.03144247012 + 5.6772584023 * t);
-        Y0 += 0.00000036104 * Math.cos(3.26215719500 + 305.0855369618 * t);
-        Y0 += 0.00000030193 * Math.cos(3.89434533212 + 138.5174968707 * t);
-        Y0 += 0.00000031916 * Math.cos(3.07583047003 + 100.3844612329 * t);
-        Y0 += 0.00000038880 * Math.cos(1.72301566300 + 76.3142553854 * t);
-        Y0 += 0.00000029543 * Math.cos(4.00466097713 + 7.1135470008 * t);
-        Y0 += 0.00000034218 * Math.cos(6.05031588107 + 319.3126309634 * t);
-        Y0 += 0.00000032863 * Math.cos(0.86693212611 + 91.7864415238 * t);
-        Y0 += 0.00000038880 * Math.cos(5.27893548994 + 76.2178871658 * t);
-        Y0 += 0.00000035779 * Math.cos(5.16217379760 + 313.6835566709 * t);
-        Y0 += 0.00000028459 * Math.cos(4.82537701506 + 42.7989020838 * t);
-        Y0 += 0.00000029235 * Math.cos(0.69125716429 + 104.0077979553 * t);
-        Y0 += 0.00000032429 * Math.cos(0.73124755748 + 78.7137518304 * t);
-        Y0 += 0.00000026519 * Math.cos(4.63186876706 + 57.255490749 * t);
-        Y0 += 0.00000028574 * Math.cos(6.23007121275 + 215.4379594521 * t);
-        Y0 += 0.00000025169 * Math.cos(5.68190155068 + 41.7563723602 * t);
-        Y0 += 0.00000024722 * Math.cos(0.61246284145 + 67.8804998876 * t);
-        Y0 += 0.00000031275 * Math.cos(2.53634049089 + 21.9795259432 * t);
-        Y0 += 0.00000030924 * Math.cos(4.82038266230 + 258.0244132148 * t);
-        Y0 += 0.00000027750 * Math.cos(0.78341232060 + 20.4950532349 * t);
-        Y0 += 0.00000025867 * Math.cos(1.45419307115 + 29.226199388 * t);
-        Y0 += 0.00000022617 * Math.cos(1.89172143712 + 36.6003788197 * t);
-        Y0 += 0.00000027381 * Math.cos(5.53374987736 + 326.8681209489 * t);
-        Y0 += 0.00000027996 * Math.cos(1.26059646108 + 11.3063326948 * t);
-        Y0 += 0.00000022661 * Math.cos(2.67324352863 + 35.2759648058 * t);
-        Y0 += 0.00000023105 * Math.cos(1.02789421532 + 68.1893164283 * t);
-        Y0 += 0.00000021423 * Math.cos(5.59061648306 + 39.6656924559 * t);
-        Y0 += 0.00000023857 * Math.cos(1.12720373626 + 79.1868325824 * t);
-        Y0 += 0.00000024878 * Math.cos(5.05248618384 + 186.2117600641 * t);
-        Y0 += 0.00000022994 * Math.cos(5.33088207828 + 227.5261894396 * t);
-        Y0 += 0.00000022482 * Math.cos(5.43588448434 + 39.5693242363 * t);
-        Y0 += 0.00000020858 * Math.cos(1.66497743007 + 40.9901064698 * t);
-        Y0 += 0.00000020327 * Math.cos(4.75570383217 + 37.478644332 * t);
-        Y0 += 0.00000020327 * Math.cos(5.86806874135 + 38.7874269436 * t);
-        Y0 += 0.00000020347 * Math.cos(1.57461185465 + 79.889407998 * t);
-        Y0 += 0.00000026742 * Math.cos(2.06777516870 + 69.3649725959 * t);
-        Y0 += 0.00000026150 * Math.cos(4.54647431825 + 401.6497195162 * t);
-        Y0 += 0.00000026622 * Math.cos(6.23032651920 + 329.8370663655 * t);
-        Y0 += 0.00000018848 * Math.cos(0.05928641369 + 2118.7638603784 * t);
-        Y0 += 0.00000024533 * Math.cos(2.43312465982 + 135.5485514541 * t);
-        Y0 += 0.00000020394 * Math.cos(4.71453634367 + 25.6028626656 * t);
-        Y0 += 0.00000017358 * Math.cos(2.96107862647 + 19.1224551112 * t);
-        Y0 += 0.00000020453 * Math.cos(5.60251904912 + 209.3669421749 * t);
-        Y0 += 0.00000019947 * Math.cos(2.45780985096 + 217.2312487011 * t);
-        Y0 += 0.00000022708 * Math.cos(0.96197477786 + 1436.5407527326 * t);
-        Y0 += 0.00000019425 * Math.cos(1.39256956278 + 129.9194771616 * t);
-        Y0 += 0.00000017267 * Math.cos(5.46335597919 + 8.385571388 * t);
-        Y0 += 0.00000016188 * Math.cos(1.00277158426 + 37.4998961914 * t);
-        Y0 += 0.00000016188 * Math.cos(3.33781568208 + 38.7661750842 * t);
-        Y0 += 0.00000020858 * Math.cos(3.10425163550 + 58.7399634573 * t);
-        Y0 += 0.00000015707 * Math.cos(3.50343459132 + 76.0054388447 * t);
-        Y0 += 0.00000015770 * Math.cos(0.31796217276 + 154.0166152595 * t);
-        Y0 += 0.00000018627 * Math.cos(4.65661279249 + 323.5054166574 * t);
-        Y0 += 0.00000018916 * Math.cos(3.89922376406 + 40.1387732079 * t);
-        Y0 += 0.00000015927 * Math.cos(4.45409863881 + 20.6069278195 * t);
-        Y0 += 0.00000015519 * Math.cos(5.00471896239 + 72.3339180125 * t);
-        Y0 += 0.00000014928 * Math.cos(5.49703930308 + 33.9884340536 * t);
-        Y0 += 0.00000020724 * Math.cos(3.76451824519 + 85.8272988312 * t);
-        Y0 += 0.00000016036 * Math.cos(5.62767242752 + 515.463871093 * t);
-        Y0 += 0.00000014623 * Math.cos(0.57477300148 + 742.9900605326 * t);
-        Y0 += 0.00000014368 * Math.cos(2.18139483772 + 64.9597385808 * t);
-        Y0 += 0.00000015411 * Math.cos(4.20263453116 + 735.8765135318 * t);
-        Y0 += 0.00000018891 * Math.cos(1.79248356945 + 54.2865453324 * t);
-        Y0 += 0.00000013971 * Math.cos(3.54176522468 + 76.5267037065 * t);
-        Y0 += 0.00000014104 * Math.cos(6.03208738537 + 235.933012687 * t);
-        Y0 += 0.00000015044 * Math.cos(5.68379159337 + 52.1476813183 * t);
-        Y0 += 0.00000017462 * Math.cos(0.12266713363 + 73.8183907208 * t);
-        Y0 += 0.00000017964 * Math.cos(1.03863397900 + 202.2533951741 * t);
-        Y0 += 0.00000015639 * Math.cos(5.12006925014 + 294.6729761443 * t);
-        Y0 += 0.00000014466 * Math.cos(0.20879849179 + 252.0865223816 * t);
-        Y0 += 0.00000012911 * Math.cos(5.12673316373 + 42.277637222 * t);
-        Y0 += 0.00000016679 * Math.cos(0.03644331108 + 366.485629295 * t);
-        Y0 += 0.00000016366 * Math.cos(3.39215891350 + 853.196381752 * t);
-        Y0 += 0.00000012558 * Math.cos(2.35128873124 + 17.6379824029 * t);
-        Y0 += 0.00000015259 * Math.cos(5.71498593196 + 363.5166838784 * t);
-        Y0 += 0.00000012654 * Math.cos(0.78790100004 + 107.2855599126 * t);
-        Y0 += 0.00000014739 * Math.cos(6.26294958243 + 82.2039621088 * t);
-        Y0 += 0.00000014840 * Math.cos(5.34075097309 + 43.8102940401 * t);
-        Y0 += 0.00000013262 * Math.cos(0.88619404716 + 140.6563608848 * t);
-        Y0 += 0.00000016323 * Math.cos(1.14438470315 + 209.106309744 * t);
-        Y0 += 0.00000014786 * Math.cos(0.43719851869 + 73.5577582899 * t);
-        Y0 += 0.00000014382 * Math.cos(3.56047268856 + 55.7710180407 * t);
-        Y0 += 0.00000014984 * Math.cos(4.30438809136 + 144.1465711632 * t);
-        Y0 += 0.00000012251 * Math.cos(5.90062937206 + 47.0398718876 * t);
-        Y0 += 0.00000015703 * Math.cos(5.46040046735 + 837.6972633632 * t);
-        Y0 += 0.00000012109 * Math.cos(0.53062972107 + 32.7645937762 * t);
-        Y0 += 0.00000013513 * Math.cos(0.91285117036 + 700.6642392008 * t);
-        Y0 += 0.00000012545 * Math.cos(2.45122296577 + 59.2824801785 * t);
-        Y0 += 0.00000011481 * Math.cos(3.65591005670 + 38.9631170403 * t);
-        Y0 += 0.00000011481 * Math.cos(0.68467720964 + 37.3029542353 * t);
-        Y0 += 0.00000011450 * Math.cos(5.92277753697 + 529.1697002328 * t);
-        Y0 += 0.00000012138 * Math.cos(0.75939056044 + 42.0651889009 * t);
-        Y0 += 0.00000011369 * Math.cos(4.22990884648 + 491.5579294568 * t);
-        Y0 += 0.00000013771 * Math.cos(2.92318261793 + 76.3779458602 * t);
-        Y0 += 0.00000010515 * Math.cos(5.00012997140 + 29.7474642498 * t);
-        Y0 += 0.00000011037 * Math.cos(1.59367536895 + 530.2122299564 * t);
-        Y0 += 0.00000012244 * Math.cos(2.62528447418 + 199.0720014364 * t);
-        Y0 += 0.00000014023 * Math.cos(4.71711117819 + 438.2982824457 * t);
-        Y0 += 0.00000013771 * Math.cos(4.07876849292 + 76.154196691 * t);
-        Y0 += 0.00000011388 * Math.cos(5.82336480036 + 275.5505210331 * t);
-        Y0 += 0.00000013632 * Math.cos(1.29603623201 + 45.0341343175 * t);
-        Y0 += 0.00000009579 * Math.cos(2.83158132605 + 187.6962327724 * t);
-        Y0 += 0.00000009761 * Math.cos(4.47162181800 + 956.2891559706 * t);
-        Y0 += 0.00000010240 * Math.cos(1.34767092464 + 80.4588569696 * t);
-        Y0 += 0.00000010031 * Math.cos(3.80995736605 + 43.5014774994 * t);
-        Y0 += 0.00000011260 * Math.cos(5.32096611513 + 533.6231183577 * t);
-        Y0 += 0.00000011367 * Math.cos(2.20296742296 + 525.7588118315 * t);
-        Y0 += 0.00000009848 * Math.cos(4.06297078079 + 21.1494445407 * t);
-        Y0 += 0.00000009753 * Math.cos(1.94358495555 + 543.9180590962 * t);
-        Y0 += 0.00000008838 * Math.cos(0.60129548280 + 31.9826964835 * t);
-        Y0 += 0.00000010236 * Math.cos(1.02234093861 + 567.8240007324 * t);
-        Y0 += 0.00000008589 * Math.cos(3.55092767401 + 624.3981679252 * t);
-        Y0 += 0.00000008299 * Math.cos(4.06448222081 + 415.5524906121 * t);
-        Y0 += 0.00000008203 * Math.cos(1.76403717973 + 26.826702943 * t);
-        Y0 += 0.00000010189 * Math.cos(1.01906144330 + 21.4582610814 * t);
-        Y0 += 0.00000008398 * Math.cos(4.04456231507 + 377.1588225434 * t);
-        Y0 += 0.00000008342 * Math.cos(4.04859722840 + 1478.8665740644 * t);
-        Y0 += 0.00000008304 * Math.cos(2.39003084321 + 134.0640787458 * t);
-        Y0 += 0.00000008411 * Math.cos(1.72467942701 + 65.8747623175 * t);
-        Y0 += 0.00000008037 * Math.cos(5.70491312235 + 1265.5674786264 * t);
-        Y0 += 0.00000007973 * Math.cos(6.15191142335 + 526.5095713569 * t);
-        Y0 += 0.00000009437 * Math.cos(3.67779728767 + 120.9913890524 * t);
-        Y0 += 0.00000009161 * Math.cos(1.61650804237 + 168.0525127994 * t);
-        Y0 += 0.00000007832 * Math.cos(1.33279558377 + 532.8723588323 * t);
-        Y0 += 0.00000008815 * Math.cos(6.02934552375 + 118.0224436358 * t);
-        Y0 += 0.00000007463 * Math.cos(2.48732321090 + 906.849787638 * t);
-        Y0 += 0.00000008823 * Math.cos(5.89404127363 + 400.1652468079 * t);
-        Y0 += 0.00000009179 * Math.cos(3.20176458842 + 347.9326231554 * t);
-        Y0 += 0.00000007166 * Math.cos(5.97100059184 + 117.3198682202 * t);
-        Y0 += 0.00000008725 * Math.cos(0.47809414858 + 488.8496164711 * t);
-        Y0 += 0.00000007336 * Math.cos(6.05634956480 + 55.6591434561 * t);
-        Y0 += 0.00000007834 * Math.cos(0.39352619436 + 288.7350853111 * t);
-        Y0 += 0.00000008418 * Math.cos(6.19754313245 + 77.489911553 * t);
-        Y0 += 0.00000006942 * Math.cos(5.16023497167 + 216.4804891757 * t);
-        Y0 += 0.00000007503 * Math.cos(0.80961405135 + 601.7642506762 * t);
-        Y0 += 0.00000007092 * Math.cos(1.58410367915 + 452.9036289572 * t);
-        Y0 += 0.00000007051 * Math.cos(4.75521965029 + 107.4980082337 * t);
-        Y0 += 0.00000006833 * Math.cos(2.89152492869 + 210.1177017003 * t);
-        Y0 += 0.00000007054 * Math.cos(3.50385522249 + 453.9461586808 * t);
-        Y0 += 0.00000007892 * Math.cos(5.32145099179 + 331.3215390738 * t);
-        Y0 += 0.00000008800 * Math.cos(4.91519929298 + 738.7972748386 * t);
-        Y0 += 0.00000007851 * Math.cos(5.13496710864 + 1692.1656695024 * t);
-        Y0 += 0.00000008197 * Math.cos(3.69584833653 + 95.9792272178 * t);
-        Y0 += 0.00000009132 * Math.cos(0.27141964250 + 403.1341922245 * t);
-        Y0 += 0.00000007404 * Math.cos(5.71529438134 + 75.0422309982 * t);
-        Y0 += 0.00000008119 * Math.cos(5.04264305327 + 480.251596762 * t);
-        Y0 += 0.00000006452 * Math.cos(3.40705432376 + 321.7603115182 * t);
-        Y0 += 0.00000007909 * Math.cos(0.07288588503 + 36.3879304986 * t);
-        Y0 += 0.00000007909 * Math.cos(1.12610872772 + 39.878140777 * t);
-        Y0 += 0.00000007571 * Math.cos(1.24658812739 + 23.4639986515 * t);
-        Y0 += 0.00000008060 * Math.cos(1.96863458429 + 170.9732741062 * t);
-        Y0 += 0.00000006254 * Math.cos(5.31529575739 + 31.2319369581 * t);
-        Y0 += 0.00000006145 * Math.cos(3.68131640631 + 95.931043108 * t);
-        Y0 += 0.00000007446 * Math.cos(1.64376609736 + 494.4786907636 * t);
-        Y0 += 0.00000007743 * Math.cos(5.98250694250 + 485.8806710545 * t);
-        Y0 += 0.00000008112 * Math.cos(4.88482380649 + 474.9468453752 * t);
-        Y0 += 0.00000005958 * Math.cos(0.93024333893 + 52213.9393187862 * t);
-        Y0 += 0.00000006994 * Math.cos(4.03683192225 + 647.0108333148 * t);
-        Y0 += 0.00000007372 * Math.cos(3.31633020357 + 54.8078101942 * t);
-        Y0 += 0.00000005900 * Math.cos(0.21363110756 + 52061.40717623499 * t);
-        Y0 += 0.00000005721 * Math.cos(0.87653097313 + 119.5069163441 * t);
-        Y0 += 0.00000005708 * Math.cos(3.61595873676 + 101.8689339412 * t);
-        Y0 += 0.00000006572 * Math.cos(1.63899943387 + 1055.1891444952 * t);
-        Y0 += 0.00000006415 * Math.cos(1.00783296315 + 57.1436161644 * t);
-        Y0 += 0.00000005655 * Math.cos(1.46939704442 + 12604.2847356206 * t);
-        Y0 += 0.00000005432 * Math.cos(4.24310547299 + 222.8603229936 * t);
-        Y0 += 0.00000005758 * Math.cos(1.25264684646 + 29.7956483596 * t);
-        Y0 += 0.00000005689 * Math.cos(2.70796041900 + 27.7417266797 * t);
-        Y0 += 0.00000005833 * Math.cos(5.17859920603 + 6643.0918177618 * t);
-        Y0 += 0.00000005270 * Math.cos(5.03822957270 + 6167.1922703697 * t);
-        Y0 += 0.00000007248 * Math.cos(4.01687388867 + 674.8007441043 * t);
-        Y0 += 0.00000006727 * Math.cos(4.79694799341 + 1581.959348283 * t);
-        Y0 += 0.00000005679 * Math.cos(4.34696650563 + 16.9835910971 * t);
-        Y0 += 0.00000005669 * Math.cos(0.58371555281 + 325.3836482406 * t);
-        Y0 += 0.00000006785 * Math.cos(2.01979401520 + 320.2758388099 * t);
-        Y0 += 0.00000005146 * Math.cos(5.52411388267 + 46.5186070258 * t);
-        Y0 += 0.00000005563 * Math.cos(1.07076628954 + 177.3049238143 * t);
-        Y0 += 0.00000006459 * Math.cos(2.74428008755 + 561.8861098992 * t);
-        Y0 += 0.00000005641 * Math.cos(4.53093052368 + 169.228168967 * t);
-        Y0 += 0.00000005102 * Math.cos(5.95106118882 + 104.5290628171 * t);
-        Y0 += 0.00000006475 * Math.cos(0.95285677251 + 590.8304249969 * t);
-        Y0 += 0.00000004984 * Math.cos(0.17849748817 + 10097.4019665893 * t);
-        Y0 += 0.00000005318 * Math.cos(3.65617561778 + 44.2833747921 * t);
-        Y0 += 0.00000006698 * Math.cos(1.37970257226 + 2156.8968960162 * t);
-        Y0 += 0.00000005102 * Math.cos(4.10086430688 + 272.5815756165 * t);
-        Y0 += 0.00000006099 * Math.cos(4.39394748533 + 381.3516082374 * t);
-        Y0 += 0.00000006449 * Math.cos(2.10358230790 + 709.9648343255 * t);
-        Y0 += 0.00000005371 * Math.cos(2.83521536139 + 281.1795953256 * t);
-        Y0 += 0.00000005983 * Math.cos(1.18036159161 + 93.2709142321 * t);
-        Y0 += 0.00000005697 * Math.cos(5.30790889567 + 32.4557772355 * t);
-        Y0 += 0.00000004814 * Math.cos(3.93172491173 + 277.0349937414 * t);
-        Y0 += 0.00000005331 * Math.cos(6.17628884181 + 436.8138097374 * t);
-        Y0 += 0.00000004882 * Math.cos(5.40055208431 + 246.9787129509 * t);
-        Y0 += 0.00000004744 * Math.cos(2.25731707420 + 309.2783226558 * t);
-        Y0 += 0.00000005664 * Math.cos(0.14227860017 + 1165.3954657146 * t);
-        Y0 += 0.00000006265 * Math.cos(3.02320284237 + 712.9337797421 * t);
-        Y0 += 0.00000006257 * Math.cos(3.18970636511 + 749.5823426716 * t);
-        Y0 += 0.00000005749 * Math.cos(4.70940713962 + 6318.2399402126 * t);
-        Y0 += 0.00000005244 * Math.cos(0.76594899514 + 73.3453099688 * t);
-        Y0 += 0.00000004687 * Math.cos(0.05970229608 + 154.6710065653 * t);
-        Y0 += 0.00000006024 * Math.cos(2.70591736862 + 16.1535096946 * t);
-        Y0 += 0.00000006055 * Math.cos(3.35592086463 + 786.2309056011 * t);
-        Y0 += 0.00000004256 * Math.cos(5.81861406949 + 1577.766562589 * t);
-        Y0 += 0.00000004744 * Math.cos(2.30871852548 + 20388.4380567842 * t);
-        Y0 += 0.00000004442 * Math.cos(0.04778127257 + 1272.6810256272 * t);
-        Y0 += 0.00000004864 * Math.cos(4.37540432511 + 351.8165923087 * t);
-        Y0 += 0.00000004224 * Math.cos(3.85505933502 + 384.2723695442 * t);
-        Y0 += 0.00000005572 * Math.cos(5.58677445095 + 291.0496394219 * t);
-        Y0 += 0.00000004336 * Math.cos(1.08884506787 + 53.653405886 * t);
-        Y0 += 0.00000004427 * Math.cos(1.43078660757 + 189.1807054807 * t);
-        Y0 += 0.00000004646 * Math.cos(4.44852785946 + 13286.1836355236 * t);
-        Y0 += 0.00000005455 * Math.cos(6.13369565092 + 10248.4496364322 * t);
-        Y0 += 0.00000005506 * Math.cos(2.70125463056 + 177.8743727859 * t);
-        Y0 += 0.00000005348 * Math.cos(6.13707313462 + 24.6396548191 * t);
-        Y0 += 0.00000004263 * Math.cos(1.71615977146 + 116.5379709275 * t);
-        Y0 += 0.00000005586 * Math.cos(5.12131239872 + 6247.9117597702 * t);
-        Y0 += 0.00000004095 * Math.cos(4.92531108562 + 765.6239777816 * t);
-        Y0 += 0.00000004106 * Math.cos(1.44325025450 + 229.4526051326 * t);
-        Y0 += 0.00000004293 * Math.cos(3.08793992867 + 46.470422916 * t);
-        Y0 += 0.00000004179 * Math.cos(2.68815352879 + 6606.4432548323 * t);
-        Y0 += 0.00000004405 * Math.cos(2.78639984040 + 525.2375469697 * t);
-        Y0 += 0.00000004492 * Math.cos(4.81151850667 + 52177.29075585669 * t);
-        Y0 += 0.00000005356 * Math.cos(0.26035194623 + 10178.1214559898 * t);
-        Y0 += 0.00000004594 * Math.cos(4.86059374922 + 1025.4416802454 * t);
-        Y0 += 0.00000005497 * Math.cos(3.52369768206 + 822.8794685306 * t);
-        Y0 += 0.00000004739 * Math.cos(4.49674016741 + 748.0978699633 * t);
-        Y0 += 0.00000003831 * Math.cos(3.46478372931 + 358.4088744477 * t);
-        Y0 += 0.00000004407 * Math.cos(6.01604198660 + 1474.6737883704 * t);
-        Y0 += 0.00000004268 * Math.cos(1.02190157209 + 373.9079928365 * t);
-        Y0 += 0.00000003828 * Math.cos(3.85155221391 + 2138.4770163206 * t);
-        Y0 += 0.00000003826 * Math.cos(2.71468794557 + 1596.1864422846 * t);
-        Y0 += 0.00000003847 * Math.cos(0.52769931171 + 225.8292684102 * t);
-        Y0 += 0.00000004629 * Math.cos(5.68952565176 + 122.4758617607 * t);
-        Y0 += 0.00000003878 * Math.cos(2.73400813081 + 248.4631856592 * t);
-        Y0 += 0.00000004711 * Math.cos(5.14988231608 + 52252.07235442399 * t);
-        Y0 += 0.00000004137 * Math.cos(1.02283052398 + 502.8642621516 * t);
-        Y0 += 0.00000003913 * Math.cos(2.19914530622 + 340.7708920448 * t);
-        Y0 += 0.00000004036 * Math.cos(2.59695668161 + 323.2447842265 * t);
-        Y0 += 0.00000004789 * Math.cos(1.11613633059 + 627.4789879264 * t);
-        Y0 += 0.00000004021 * Math.cos(1.71533090158 + 6603.4743094157 * t);
-        Y0 += 0.00000005158 * Math.cos(0.06197002151 + 25520.07914084179 * t);
-        Y0 += 0.00000004150 * Math.cos(2.29240072248 + 27.1992099585 * t);
-        Y0 += 0.00000003623 * Math.cos(0.72378614024 + 1665.3389665594 * t);
-        Y0 += 0.00000003628 * Math.cos(3.54191838705 + 245.4942402426 * t);
-        Y0 += 0.00000003638 * Math.cos(1.65350968405 + 356.9244017394 * t);
-        Y0 += 0.00000004633 * Math.cos(3.36223883244 + 3227.6977924947 * t);
-        Y0 += 0.00000004495 * Math.cos(2.34764530148 + 1082.0158474382 * t);
-        Y0 += 0.00000004581 * Math.cos(2.40220295726 + 1375.7737998458 * t);
-        Y0 += 0.00000004556 * Math.cos(1.56285275727 + 25974.98850736909 * t);
-        Y0 += 0.00000004448 * Math.cos(0.59169500385 + 439.782755154 * t);
-        Y0 += 0.00000003736 * Math.cos(3.55985310407 + 1477.642733787 * t);
-        Y0 += 0.00000004062 * Math.cos(1.28480363945 + 531.1754378029 * t);
-        Y0 += 0.00000004482 * Math.cos(0.13472188586 + 342.3672393377 * t);
-        Y0 += 0.00000004832 * Math.cos(4.17903118792 + 711.4493070338 * t);
-        Y0 += 0.00000004304 * Math.cos(5.35023670233 + 12567.6361726911 * t);
-        Y0 += 0.00000004090 * Math.cos(3.11155721539 + 52.8020726241 * t);
-        Y0 += 0.00000003474 * Math.cos(3.43354239291 + 208.8456773131 * t);
-        Y0 += 0.00000004798 * Math.cos(3.66851235007 + 529.9515975255 * t);
-        Y0 += 0.00000003640 * Math.cos(3.79813532629 + 2565.0752071966 * t);
-        Y0 += 0.00000003563 * Math.cos(0.66219107190 + 12451.7525930694 * t);
-        Y0 += 0.00000003896 * Math.cos(5.66725528317 + 309.230138546 * t);
-        Y0 += 0.00000003630 * Math.cos(1.95419731413 + 102.523325247 * t);
-        Y0 += 0.00000004224 * Math.cos(1.96301767676 + 170.7126416753 * t);
-        Y0 += 0.00000003429 * Math.cos(3.16344899428 + 529.8028396792 * t);
-        Y0 += 0.00000003750 * Math.cos(5.62514445600 + 367.9701020033 * t);
-        Y0 += 0.00000003858 * Math.cos(4.35402557601 + 12564.6672272745 * t);
-        Y0 += 0.00000003406 * Math.cos(4.31901352995 + 529.57909051 * t);
-        Y0 += 0.00000004592 * Math.cos(3.67019464881 + 180.8433182025 * t);
-        Y0 += 0.00000004348 * Math.cos(3.09498417743 + 20312.17198550859 * t);
-        Y0 += 0.00000003718 * Math.cos(3.94455232665 + 1543.8263126452 * t);
-        Y0 += 0.00000003789 * Math.cos(5.86430510258 + 3101.879719292 * t);
-        Y0 += 0.00000004634 * Math.cos(2.86706696306 + 26087.9031415742 * t);
-        Y0 += 0.00000003962 * Math.cos(1.44055691643 + 156.1554792736 * t);
-        Y0 += 0.00000003784 * Math.cos(3.13803423783 + 1025.7023126763 * t);
-        Y0 += 0.00000003783 * Math.cos(1.84015347157 + 1614.4151255185 * t);
-        Y0 += 0.00000003904 * Math.cos(1.57499522111 + 370.0452755426 * t);
-        Y0 += 0.00000003768 * Math.cos(2.79060889293 + 244.0097675343 * t);
-        Y0 += 0.00000004323 * Math.cos(3.40196315582 + 396.5419100855 * t);
-        Y0 += 0.00000003889 * Math.cos(1.92710943330 + 318.7913661016 * t);
-        Y0 += 0.00000004231 * Math.cos(3.78834773529 + 31.2801210679 * t);
-        Y0 += 0.00000003762 * Math.cos(3.80686947951 + 172.1971143836 * t);
-        Y0 += 0.00000004183 * Math.cos(2.28077109622 + 560.6622696218 * t);
-        Y0 += 0.00000003373 * Math.cos(0.27134181716 + 406.1031376411 * t);
-        Y0 += 0.00000003589 * Math.cos(1.28008934312 + 213.9534867438 * t);
-        Y0 += 0.00000004411 * Math.cos(0.78391353364 + 14.6690369863 * t);
-        Y0 += 0.00000004665 * Math.cos(5.07475421890 + 511.5954083047 * t);
-        Y0 += 0.00000004578 * Math.cos(4.98719208778 + 636.6677084665 * t);
-        Y0 += 0.00000003344 * Math.cos(0.20269311780 + 20351.7894938547 * t);
-        Y0 += 0.00000003343 * Math.cos(3.36731339079 + 266.952501324 * t);
-        Y0 += 0.00000004659 * Math.cos(1.91786652417 + 283.6272758804 * t);
-        Y0 += 0.00000003934 * Math.cos(2.81187873937 + 1617.3840709351 * t);
-        Y0 += 0.00000004317 * Math.cos(0.54045162973 + 343.4792050305 * t);
-        Y0 += 0.00000004494 * Math.cos(2.91108734034 + 875.830299001 * t);
-        Y0 += 0.00000003367 * Math.cos(1.26388427784 + 127.4717966068 * t);
-        Y0 += 0.00000003334 * Math.cos(4.17218736759 + 1654.0326338646 * t);
-        Y0 += 0.00000003375 * Math.cos(4.92015915490 + 1120.148883076 * t);
-        Y0 += 0.00000004526 * Math.cos(2.98323504249 + 525.5463635104 * t);
-        Y0 += 0.00000003322 * Math.cos(2.54606866108 + 485.9288551643 * t);
-        Y0 += 0.00000003665 * Math.cos(3.52551062197 + 149.0419322728 * t);
-        Y0 += 0.00000004043 * Math.cos(2.86822695235 + 244.318584075 * t);
-        Y0 += 0.00000004025 * Math.cos(3.81474412988 + 52174.32181044009 * t);
-        Y0 += 0.00000003276 * Math.cos(3.52741641871 + 1306.621275571 * t);
-        Y0 += 0.00000003582 * Math.cos(4.69883870215 + 304.2342036999 * t);
-        Y0 += 0.00000003214 * Math.cos(5.51314151631 + 20348.82054843809 * t);
-        Y0 += 0.00000003963 * Math.cos(3.65925057541 + 638.1521811748 * t);
-        Y0 += 0.00000004060 * Math.cos(2.86201358830 + 274.6354972964 * t);
-        Y0 += 0.00000003523 * Math.cos(4.77119709375 + 519.6084726772 * t);
-        Y0 += 0.00000003975 * Math.cos(3.44195970194 + 14.5571624017 * t);
-        Y0 += 0.00000003753 * Math.cos(5.89334012623 + 165.0835673828 * t);
-        Y0 += 0.00000004414 * Math.cos(1.19641019879 + 395.578702239 * t);
-        Y0 += 0.00000004430 * Math.cos(3.80838860586 + 529.4303326637 * t);
-        Y0 += 0.00000004064 * Math.cos(2.60400557319 + 6130.5437074402 * t);
-        Y0 += 0.00000004077 * Math.cos(3.56169074183 + 433.190473015 * t);
-        Y0 += 0.00000003918 * Math.cos(5.77638473911 + 375.6743498351 * t);
-        Y0 += 0.00000004035 * Math.cos(1.15563671039 + 1012.8633231634 * t);
-        Y0 += 0.00000004022 * Math.cos(0.15001208871 + 1477.5945496772 * t);
-        Y0 += 0.00000004060 * Math.cos(4.49007922984 + 51.6264164565 * t);
-        Y0 += 0.00000003107 * Math.cos(3.81160980428 + 28.6836826668 * t);
-        Y0 += 0.00000003259 * Math.cos(0.91021107093 + 658.1259695479 * t);
-        Y0 += 0.00000003428 * Math.cos(2.81212399261 + 2351.7761117586 * t);
-        Y0 += 0.00000003114 * Math.cos(0.48888256375 + 537.7677199419 * t);
-        Y0 += 0.00000003382 * Math.cos(1.87715401308 + 661.0949149645 * t);
-        Y0 += 0.00000003297 * Math.cos(1.72555035248 + 1404.0849754971 * t);
-        Y0 += 0.00000003278 * Math.cos(5.26020148085 + 942.0138778592 * t);
-        Y0 += 0.00000003415 * Math.cos(5.95641164263 + 326.4261779642 * t);
-        Y0 += 0.00000003172 * Math.cos(2.65677028436 + 78.4049352897 * t);
-        Y0 += 0.00000003173 * Math.cos(0.75400916256 + 1401.1160300805 * t);
-        Y0 += 0.00000003445 * Math.cos(0.57992543307 + 385.5443939314 * t);
-        Y0 += 0.00000003092 * Math.cos(3.82983550635 + 815.0633461142 * t);
-        Y0 += 0.00000004196 * Math.cos(1.28994281273 + 25596.3452121174 * t);
-        Y0 += 0.00000004113 * Math.cos(3.44521319517 + 1049.5600702027 * t);
-        Y0 += 0.00000004012 * Math.cos(0.58003601548 + 52.3601296394 * t);
-        Y0 += 0.00000003869 * Math.cos(3.98538549617 + 555.0331953293 * t);
-        Y0 += 0.00000003402 * Math.cos(5.33322683123 + 1586.1039498672 * t);
-        Y0 += 0.00000004107 * Math.cos(0.17888822879 + 978.9230732196 * t);
-        Y0 += 0.00000003231 * Math.cos(6.18446393138 + 401.0647641796 * t);
-        Y0 += 0.00000003726 * Math.cos(5.26558629383 + 1096.2429414398 * t);
-        Y0 += 0.00000003792 * Math.cos(5.46703170313 + 111.6907939277 * t);
-        Y0 += 0.00000004172 * Math.cos(3.66727884339 + 943.4983505675 * t);
-        Y0 += 0.00000003049 * Math.cos(2.69618553184 + 241.6102710893 * t);
-        Y0 += 0.00000003839 * Math.cos(4.02727251163 + 10060.7534036598 * t);
-        Y0 += 0.00000003471 * Math.cos(3.16777535295 + 1158.2819187138 * t);
-        Y0 += 0.00000003679 * Math.cos(3.11256178045 + 635.1832357582 * t);
-        Y0 += 0.00000003673 * Math.cos(3.08820607068 + 57.84619158 * t);
-        Y0 += 0.00000002998 * Math.cos(5.59775307383 + 477.3308354552 * t);
-        Y0 += 0.00000004182 * Math.cos(1.86290426872 + 2772.7884259674 * t);
-        Y0 += 0.00000002961 * Math.cos(3.77220636399 + 2461.982432978 * t);
-        Y0 += 0.00000003331 * Math.cos(2.38360679146 + 10134.0505295188 * t);
-        Y0 += 0.00000003222 * Math.cos(4.49696787843 + 134.1122628556 * t);
-        Y0 += 0.00000002942 * Math.cos(2.47257439653 + 78225.57638908479 * t);
-        Y0 += 0.00000003465 * Math.cos(0.02644864750 + 1151.168371713 * t);
-        Y0 += 0.00000002951 * Math.cos(4.00999244396 + 33.7278016227 * t);
-        Y0 += 0.00000002951 * Math.cos(3.47218747597 + 42.5382696529 * t);
-        Y0 += 0.00000003159 * Math.cos(5.46095797219 + 103.3534066495 * t);
-        Y0 += 0.00000002923 * Math.cos(1.51122952452 + 266.1011680621 * t);
-        Y0 += 0.00000003904 * Math.cos(5.01890959329 + 558.0021407459 * t);
-        Y0 += 0.00000003304 * Math.cos(5.45541068856 + 500.1559491659 * t);
-        Y0 += 0.00000003313 * Math.cos(3.21903075571 + 939.3537489833 * t);
-        Y0 += 0.00000003031 * Math.cos(4.32204775564 + 156451.15277816958 * t);
-        Y0 += 0.00000002967 * Math.cos(4.72619666771 + 6.1503391543 * t);
-        Y0 += 0.00000002968 * Math.cos(2.87474467824 + 285.1117485887 * t);
-        Y0 += 0.00000003252 * Math.cos(1.92891892698 + 709.0498105888 * t);
-        Y0 += 0.00000002995 * Math.cos(5.12818568753 + 139.9537854692 * t);
-        Y0 += 0.00000002869 * Math.cos(6.22345325556 + 908.3342603463 * t);
-        Y0 += 0.00000003354 * Math.cos(0.17083659229 + 642.6055992997 * t);
-        Y0 += 0.00000002992 * Math.cos(4.15289545754 + 54.1746707478 * t);
-        Y0 += 0.00000002918 * Math.cos(0.68789446711 + 83.3796182764 * t);
-        Y0 += 0.00000003767 * Math.cos(2.26354266856 + 746.613397255 * t);
-        Y0 += 0.00000003591 * Math.cos(3.52985610370 + 697.8071683688 * t);
-        Y0 += 0.00000002822 * Math.cos(0.67588438863 + 953.5808429849 * t);
-        Y0 += 0.00000003081 * Math.cos(4.50134176612 + 625.6701923124 * t);
-        Y0 += 0.00000003829 * Math.cos(0.44509657076 + 452.2010535416 * t);
-        Y0 += 0.00000003196 * Math.cos(4.27208369200 + 362.8622925726 * t);
-        Y0 += 0.00000003158 * Math.cos(5.89392762358 + 539.773457512 * t);
-        Y0 += 0.00000003759 * Math.cos(3.90160360925 + 6171.6456884946 * t);
-        Y0 += 0.00000003828 * Math.cos(2.81642582089 + 635.70450062 * t);
-        Y0 += 0.00000002810 * Math.cos(3.57724875595 + 1592.0418407004 * t);
-        Y0 += 0.00000003159 * Math.cos(5.71540609516 + 197.7999770492 * t);
-        Y0 += 0.00000002859 * Math.cos(3.51261942327 + 665.2395165487 * t);
-        Y0 += 0.00000003659 * Math.cos(1.19068403505 + 347.3631741838 * t);
-        Y0 += 0.00000003228 * Math.cos(1.02601169957 + 6203.8408332992 * t);
-        Y0 += 0.00000003747 * Math.cos(1.09466936594 + 303.6010642535 * t);
-        Y0 += 0.00000003529 * Math.cos(3.52069989175 + 608.877797677 * t);
-        Y0 += 0.00000003272 * Math.cos(3.28969455529 + 384.5811860849 * t);
-        Y0 += 0.00000002878 * Math.cos(1.18069074049 + 450.7165808333 * t);
-        Y0 += 0.00000003291 * Math.cos(2.82888188182 + 297.6419215609 * t);
-        Y0 += 0.00000003419 * Math.cos(0.93085492324 + 416.7763308895 * t);
-        Y0 += 0.00000003057 * Math.cos(6.05827118955 + 52.6901980395 * t);
-        Y0 += 0.00000003057 * Math.cos(4.56550138397 + 23.5758732361 * t);
-        Y0 += 0.00000003444 * Math.cos(1.97050046415 + 499.895316735 * t);
-        Y0 += 0.00000003586 * Math.cos(4.87689429521 + 26048.28563322809 * t);
-        Y0 += 0.00000002816 * Math.cos(1.69651250485 + 210.3783341312 * t);
-        Y0 += 0.00000002746 * Math.cos(5.14557483567 + 353.301065017 * t);
-        Y0 += 0.00000002856 * Math.cos(1.48878669355 + 622.9136952169 * t);
-        Y0 += 0.00000003026 * Math.cos(0.08398557744 + 473.4623726669 * t);
-        Y0 += 0.00000002724 * Math.cos(5.64910692637 + 22.9427337897 * t);
-        Y0 += 0.00000002733 * Math.cos(1.93635956483 + 262.4778313397 * t);
-        Y0 += 0.00000002681 * Math.cos(5.83048600091 + 24.9484713598 * t);
-        Y0 += 0.00000002788 * Math.cos(0.34873307438 + 191.3195694948 * t);
-        Y0 += 0.00000003490 * Math.cos(1.28004674902 + 664.1275508559 * t);
-        Y0 += 0.00000002906 * Math.cos(1.95591954273 + 172.2452984934 * t);
-        Y0 += 0.00000002975 * Math.cos(0.71741646583 + 959.2099172774 * t);
-        Y0 += 0.00000002819 * Math.cos(2.27061898938 + 175.820451106 * t);
-        Y0 += 0.00000003326 * Math.cos(0.55223927312 + 44.9859502077 * t);
-        Y0 += 0.00000002630 * Math.cos(5.83934423750 + 2751.5475996916 * t);
-        Y0 += 0.00000002629 * Math.cos(1.45398599785 + 411.0990724872 * t);
-        Y0 += 0.00000002625 * Math.cos(0.73055263025 + 521.6142102473 * t);
-        Y0 += 0.00000002963 * Math.cos(4.94025125472 + 299.1263942692 * t);
-        Y0 += 0.00000002964 * Math.cos(3.34204295239 + 112.3933693433 * t);
-        Y0 += 0.00000003127 * Math.cos(1.47433846576 + 225.3080035484 * t);
-        Y0 += 0.00000002779 * Math.cos(3.22942892779 + 238.6413256727 * t);
-        Y0 += 0.00000002700 * Math.cos(2.88389280233 + 963.4027029714 * t);
-        Y0 += 0.00000002669 * Math.cos(3.02940521402 + 531.6967026647 * t);
-        Y0 += 0.00000003084 * Math.cos(1.37449239492 + 340.5102596139 * t);
-        Y0 += 0.00000003257 * Math.cos(6.23717182736 + 305.7186764082 * t);
-        Y0 += 0.00000003265 * Math.cos(6.26189223545 + 24.4908969728 * t);
-        Y0 += 0.00000003588 * Math.cos(1.33471140759 + 533.8355666788 * t);
-        Y0 += 0.00000002552 * Math.cos(4.72678171304 + 183.7640795093 * t);
-        Y0 += 0.00000002725 * Math.cos(5.17313059039 + 74.2603337055 * t);
-        Y0 += 0.00000003107 * Math.cos(4.58148059690 + 217.4436970222 * t);
-        Y0 += 0.00000002644 * Math.cos(5.73203813744 + 508.3503240922 * t);
-        Y0 += 0.00000002617 * Math.cos(2.50483688591 + 213.3472795478 * t);
-        Y0 += 0.00000002980 * Math.cos(5.25252236279 + 464.7312265138 * t);
-        Y0 += 0.00000002763 * Math.cos(0.26992068136 + 410.8384400563 * t);
-        Y0 += 0.00000003044 * Math.cos(0.78066290550 + 369.4545747116 * t);
-        Y0 += 0.00000002609 * Math.cos(5.52330360691 + 213.2509113282 * t);
-        Y0 += 0.00000003444 * Math.cos(0.99359024005 + 891.3294173898 * t);
-        Y0 += 0.00000002533 * Math.cos(2.16115259070 + 800.8362521126 * t);
-        Y0 += 0.00000002531 * Math.cos(1.24865571639 + 90.9351082619 * t);
-        Y0 += 0.00000002742 * Math.cos(4.26902058467 + 57.7980074702 * t);
-        Y0 += 0.00000002531 * Math.cos(5.23502557199 + 203.7378678824 * t);
-        Y0 += 0.00000002699 * Math.cos(4.28647148756 + 1624.236985505 * t);
-        Y0 += 0.00000002571 * Math.cos(5.76801473818 + 600.2797779679 * t);
-        Y0 += 0.00000002640 * Math.cos(5.59732374708 + 212.4690140355 * t);
-        Y0 += 0.00000003109 * Math.cos(2.22094458109 + 518.3846323998 * t);
-        Y0 += 0.00000003359 * Math.cos(5.32993220851 + 10101.8553847142 * t);
-        Y0 += 0.00000002577 * Math.cos(3.39414147622 + 1447.8470854274 * t);
-        Y0 += 0.00000002531 * Math.cos(5.14072751464 + 495.4900827199 * t);
-        Y0 += 0.00000002589 * Math.cos(3.33391775373 + 1190.7858800591 * t);
-        Y0 += 0.00000003144 * Math.cos(1.59060373508 + 1504.2088042991 * t);
-        Y0 += 0.00000002806 * Math.cos(3.97574190040 + 23.9059416362 * t);
-        Y0 += 0.00000002818 * Math.cos(2.04818576489 + 49.0668613171 * t);
-        Y0 += 0.00000003340 * Math.cos(3.88359437905 + 769.8167634756 * t);
-        Y0 += 0.00000003153 * Math.cos(4.36180740333 + 51.7751743028 * t);
-        Y0 += 0.00000003026 * Math.cos(4.66102274842 + 784.7464328928 * t);
-        Y0 += 0.00000002471 * Math.cos(2.80088362924 + 411.3597049181 * t);
-        Y0 += 0.00000002460 * Math.cos(3.66139459125 + 12528.018664345 * t);
-        Y0 += 0.00000002504 * Math.cos(1.42658135509 + 464.4705940829 * t);
-        Y0 += 0.00000002972 * Math.cos(5.01469145652 + 569.0478410098 * t);
-        Y0 += 0.00000003209 * Math.cos(6.19742042150 + 1438.0252254409 * t);
-        Y0 += 0.00000002508 * Math.cos(3.04158933835 + 260.9933586314 * t);
-        Y0 += 0.00000002443 * Math.cos(2.82612634968 + 1625.7214582133 * t);
-        Y0 += 0.00000002666 * Math.cos(5.14460585253 + 573.4530750249 * t);
-        Y0 += 0.00000002719 * Math.cos(1.78358967618 + 140.001969579 * t);
-        Y0 += 0.00000002710 * Math.cos(3.15364430478 + 564.8550553158 * t);
-        Y0 += 0.00000002821 * Math.cos(4.09785128246 + 402.6922492398 * t);
-        Y0 += 0.00000002769 * Math.cos(2.92986669315 + 288.0806940053 * t);
-        Y0 += 0.00000003412 * Math.cos(5.98247894366 + 772.5887669361 * t);
-        Y0 += 0.00000002898 * Math.cos(5.66734281961 + 394.0942295307 * t);
-        Y0 += 0.00000003170 * Math.cos(2.10761426115 + 1011.3788504551 * t);
-        Y0 += 0.00000002618 * Math.cos(4.93770543914 + 6681.2248533996 * t);
-        Y0 += 0.00000002763 * Math.cos(3.87249057954 + 460.5384408198 * t);
-        Y0 += 0.00000003091 * Math.cos(0.31166661878 + 379.0158022672 * t);
-        Y0 += 0.00000002656 * Math.cos(4.25147351533 + 409.6627838887 * t);
-        Y0 += 0.00000003176 * Math.cos(4.86808797019 + 301.1533836987 * t);
-        Y0 += 0.00000002660 * Math.cos(4.25235969165 + 305.3461693927 * t);
-        Y0 += 0.00000003357 * Math.cos(3.91151745014 + 346.1393339064 * t);
-        Y0 += 0.00000002698 * Math.cos(3.26449493257 + 78149.31031780918 * t);
-        Y0 += 0.00000002398 * Math.cos(5.70459817283 + 1552.4243323543 * t);
-        Y0 += 0.00000002703 * Math.cos(0.98862354260 + 113.1270825262 * t);
-        Y0 += 0.00000002373 * Math.cos(0.25239158359 + 131.0951333292 * t);
-        Y0 += 0.00000002425 * Math.cos(1.33980716631 + 1337.640764208 * t);
-        Y0 += 0.00000003236 * Math.cos(3.48022046721 + 20.0374788479 * t);
-        Y0 += 0.00000003005 * Math.cos(4.72212645567 + 353.0404325861 * t);
-        Y0 += 0.00000003313 * Math.cos(3.05727882934 + 2849.054497243 * t);
-        Y0 += 0.00000002414 * Math.cos(4.43559153994 + 527.6852275245 * t);
-        Y0 += 0.00000002740 * Math.cos(3.20105219862 + 1205.9761819072 * t);
-        Y0 += 0.00000002361 * Math.cos(0.63552853687 + 905.3653149297 * t);
-        Y0 += 0.00000002344 * Math.cos(3.90185772151 + 132.5796060375 * t);
-        Y0 += 0.00000003257 * Math.cos(1.23406689856 + 66.3960271793 * t);
-        Y0 += 0.00000003261 * Math.cos(2.55696433264 + 1507.1777497157 * t);
-        Y0 += 0.00000003046 * Math.cos(2.42869966903 + 1549.4553869377 * t);
-        Y0 += 0.00000003241 * Math.cos(5.00909929345 + 978.6624407887 * t);
-        Y0 += 0.00000002369 * Math.cos(5.90091572070 + 419.2240114443 * t);
-        Y0 += 0.00000003118 * Math.cos(5.98461423520 + 694.8382229522 * t);
-        Y0 += 0.00000003117 * Math.cos(5.30714013024 + 1435.0562800243 * t);
-        Y0 += 0.00000002380 * Math.cos(1.01356203535 + 983.1158589136 * t);
-        Y0 += 0.00000002345 * Math.cos(4.37755770684 + 454.1756533444 * t);
-        Y0 += 0.00000002409 * Math.cos(5.05182598735 + 142.6620984549 * t);
-        Y0 += 0.00000003033 * Math.cos(4.41387455868 + 330.6189636582 * t);
-        Y0 += 0.00000002340 * Math.cos(0.70752556953 + 452.6741342936 * t);
-        Y0 += 0.00000003067 * Math.cos(2.87058661092 + 458.8415197904 * t);
-        Y0 += 0.00000003202 * Math.cos(3.29438781750 + 89.9082099406 * t);
-        Y0 += 0.00000002306 * Math.cos(4.04052258509 + 6246.4272870619 * t);
-        Y0 += 0.00000002494 * Math.cos(2.36431688660 + 1187.8169346425 * t);
-        Y0 += 0.00000002341 * Math.cos(2.23011474527 + 341.7340998913 * t);
-        Y0 += 0.00000002676 * Math.cos(0.23734342327 + 259.5088859231 * t);
-        Y0 += 0.00000002809 * Math.cos(0.95837285337 + 317.8281582551 * t);
-        Y0 += 0.00000002952 * Math.cos(4.69782080306 + 186.472392495 * t);
-        Y0 += 0.00000002881 * Math.cos(2.69226614245 + 237.9869343669 * t);
-        Y0 += 0.00000003199 * Math.cos(3.69041975198 + 859.5280314601 * t);
-        Y0 += 0.00000002613 * Math.cos(3.70839499487 + 557.741508315 * t);
-        Y0 += 0.00000002256 * Math.cos(3.51118945147 + 981.6313862053 * t);
-        Y0 += 0.00000002722 * Math.cos(0.59414923439 + 49.4393683326 * t);
-        Y0 += 0.00000002900 * Math.cos(3.88889529638 + 771.1042942278 * t);
-        Y0 += 0.00000002254 * Math.cos(3.41702005424 + 22.8945496799 * t);
-        Y0 += 0.00000002359 * Math.cos(0.77313093683 + 673.8375362578 * t);
-        Y0 += 0.00000003049 * Math.cos(2.13225938920 + 1512.8068240082 * t);
-        Y0 += 0.00000002380 * Math.cos(2.43766202246 + 429.5189521828 * t);
-        Y0 += 0.00000002655 * Math.cos(4.29166946925 + 484.3961983462 * t);
-        Y0 += 0.00000003050 * Math.cos(3.30523538204 + 1230.3552042954 * t);
-        Y0 += 0.00000002933 * Math.cos(5.65910757918 + 314.9073969483 * t);
-        Y0 += 0.00000002665 * Math.cos(2.19981222171 + 554.0699874828 * t);
-        Y0 += 0.00000003004 * Math.cos(4.59441165035 + 1929.5831548977 * t);
-        Y0 += 0.00000002290 * Math.cos(4.98200725775 + 455.4306313891 * t);
-        Y0 += 0.00000002295 * Math.cos(0.63099781114 + 497.1870037493 * t);
-        Y0 += 0.00000002226 * Math.cos(0.52897697548 + 47.5823886088 * t);
-        Y0 += 0.00000002476 * Math.cos(1.24168604940 + 532.1386456494 * t);
-        Y0 += 0.00000002250 * Math.cos(0.37232537057 + 70.5888128733 * t);
-        Y0 += 0.00000002246 * Math.cos(2.01432880382 + 381.6122406683 * t);
-        Y0 += 0.00000002231 * Math.cos(3.37106298565 + 877.1023233882 * t);
-        Y0 += 0.00000002718 * Math.cos(3.56030002906 + 177.8261886761 * t);
-        Y0 += 0.00000002999 * Math.cos(3.63964247571 + 1926.6142094811 * t);
-        Y0 += 0.00000003064 * Math.cos(0.13823970452 + 317.8763423649 * t);
-        Y0 += 0.00000002235 * Math.cos(1.60629117936 + 189.8350967865 * t);
-        Y0 += 0.00000002691 * Math.cos(2.01006398440 + 6284.5603226997 * t);
-        Y0 += 0.00000002682 * Math.cos(2.34959792980 + 422.7142217227 * t);
-        Y0 += 0.00000002204 * Math.cos(4.77544823324 + 443.1299530805 * t);
-        Y0 += 0.00000002284 * Math.cos(1.53609675955 + 250.6020496733 * t);
-        Y0 += 0.00000002451 * Math.cos(2.05863878190 + 487.6257761937 * t);
-        Y0 += 0.00000002255 * Math.cos(4.89734227454 + 621.4774066184 * t);
-        Y0 += 0.00000002398 * Math.cos(0.01365376412 + 12566.1516999828 * t);
-        Y0 += 0.00000002185 * Math.cos(5.42597293866 + 498.6714764576 * t);
-        Y0 += 0.00000002178 * Math.cos(2.98451517510 + 6243.4583416453 * t);
-        Y0 += 0.00000002201 * Math.cos(1.45024762713 + 1189.3014073508 * t);
-        Y0 += 0.00000002173 * Math.cos(5.45923533629 + 10176.6369832815 * t);
-        Y0 += 0.00000002854 * Math.cos(2.57422930194 + 591.9423906897 * t);
-        Y0 += 0.00000002677 * Math.cos(4.97646613444 + 528.4671248172 * t);
-        Y0 += 0.00000002975 * Math.cos(3.02476240292 + 1014.3477958717 * t);
-        Y0 += 0.00000002339 * Math.cos(3.29514264160 + 440.6822725257 * t);
-        Y0 += 0.00000002303 * Math.cos(2.30070066113 + 1371.5810141518 * t);
-        Y0 += 0.00000002471 * Math.cos(4.24204271273 + 407.2151033339 * t);
-        Y0 += 0.00000002539 * Math.cos(5.75288212233 + 425.3743505986 * t);
-        Y0 += 0.00000002373 * Math.cos(1.81297882236 + 132.8402384684 * t);
-        Y0 += 0.00000002381 * Math.cos(0.08013730606 + 141.1776257466 * t);
-        Y0 += 0.00000002332 * Math.cos(5.93678984392 + 70.6369969831 * t);
-        Y0 += 0.00000002628 * Math.cos(2.85649388220 + 459.3627846522 * t);
-        Y0 += 0.00000002319 * Math.cos(2.81891636177 + 26011.6370702986 * t);
-        Y0 += 0.00000002378 * Math.cos(2.89965220331 + 952.0963702766 * t);
-        Y0 += 0.00000002232 * Math.cos(3.99247109324 + 158.3736651648 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 325 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 -= 0.00352947493;
-        Y1 += 0.00256125493 * Math.cos(0.44757496817 + 36.6485629295 * t);
-        Y1 += 0.00243147725 * Math.cos(3.89099798696 + 39.6175083461 * t);
-        Y1 += 0.00118427205 * Math.cos(1.31128027037 + 76.2660712756 * t);
-        Y1 += 0.00021936702 * Math.cos(1.63124087591 + 35.1640902212 * t);
-        Y1 += 0.00017462332 * Math.cos(2.69229902966 + 41.1019810544 * t);
-        Y1 += 0.00012992380 * Math.cos(3.79578633002 + 2.9689454166 * t);
-        Y1 += 0.00004945117 * Math.cos(0.51727080684 + 73.297125859 * t);
-        Y1 += 0.00002745921 * Math.cos(2.49178311082 + 77.7505439839 * t);
-        Y1 += 0.00002145481 * Math.cos(2.54768447291 + 4.4534181249 * t);
-        Y1 += 0.00001572289 * Math.cos(5.78853350711 + 114.3991069134 * t);
-        Y1 += 0.00001565725 * Math.cos(2.89846266272 + 33.6796175129 * t);
-        Y1 += 0.00001458269 * Math.cos(1.61835542699 + 38.1330356378 * t);
-        Y1 += 0.00001293459 * Math.cos(4.45868061082 + 74.7815985673 * t);
-        Y1 += 0.00001343731 * Math.cos(1.46712622109 + 42.5864537627 * t);
-        Y1 += 0.00000898500 * Math.cos(2.69840159769 + 426.598190876 * t);
-        Y1 += 0.00000865987 * Math.cos(0.09556314885 + 37.611770776 * t);
-        Y1 += 0.00000849963 * Math.cos(4.24519893359 + 38.6543004996 * t);
-        Y1 += 0.00000920293 * Math.cos(1.77507768901 + 71.8126531507 * t);
-        Y1 += 0.00000780099 * Math.cos(4.27192640198 + 206.1855484372 * t);
-        Y1 += 0.00000754744 * Math.cos(3.76138025905 + 220.4126424388 * t);
-        Y1 += 0.00000606975 * Math.cos(4.81932341510 + 1059.3819301892 * t);
-        Y1 += 0.00000535973 * Math.cos(2.93053797020 + 1.4844727083 * t);
-        Y1 += 0.00000572284 * Math.cos(0.85667831685 + 522.5774180938 * t);
-        Y1 += 0.00000559236 * Math.cos(0.34587880894 + 536.8045120954 * t);
-        Y1 += 0.00000500998 * Math.cos(0.14254169132 + 28.5718080822 * t);
-        Y1 += 0.00000471868 * Math.cos(5.96893505289 + 98.8999885246 * t);
-        Y1 += 0.00000453930 * Math.cos(0.14360437422 + 35.685355083 * t);
-        Y1 += 0.00000410057 * Math.cos(4.19500269960 + 40.5807161926 * t);
-        Y1 += 0.00000366899 * Math.cos(4.19675799066 + 47.6942631934 * t);
-        Y1 += 0.00000299214 * Math.cos(1.31497587337 + 5.9378908332 * t);
-        Y1 += 0.00000170466 * Math.cos(2.89252858677 + 33.9402499438 * t);
-        Y1 += 0.00000156618 * Math.cos(1.02374224930 + 79.2350166922 * t);
-        Y1 += 0.00000152553 * Math.cos(5.29478475308 + 30.0562807905 * t);
-        Y1 += 0.00000150776 * Math.cos(1.46874533276 + 42.3258213318 * t);
-        Y1 += 0.00000162840 * Math.cos(5.51940419316 + 31.019488637 * t);
-        Y1 += 0.00000130379 * Math.cos(3.20301703119 + 8.0767548473 * t);
-        Y1 += 0.00000121024 * Math.cos(5.30860647354 + 46.2097904851 * t);
-        Y1 += 0.00000134658 * Math.cos(5.10386276839 + 45.2465826386 * t);
-        Y1 += 0.00000115930 * Math.cos(0.24759979383 + 44.070926471 * t);
-        Y1 += 0.00000110293 * Math.cos(4.69481506643 + 35.212274331 * t);
-        Y1 += 0.00000099370 * Math.cos(5.93175202972 + 41.0537969446 * t);
-        Y1 += 0.00000090585 * Math.cos(4.23396273741 + 32.1951448046 * t);
-        Y1 += 0.00000108365 * Math.cos(1.52289786655 + 112.9146342051 * t);
-        Y1 += 0.00000089894 * Math.cos(5.88234203408 + 60.7669528868 * t);
-        Y1 += 0.00000072649 * Math.cos(1.93541377748 + 639.897286314 * t);
-        Y1 += 0.00000066255 * Math.cos(3.24522261219 + 70.3281804424 * t);
-        Y1 += 0.00000087643 * Math.cos(3.23272880358 + 419.4846438752 * t);
-        Y1 += 0.00000053547 * Math.cos(2.89450182926 + 433.7117378768 * t);
-        Y1 += 0.00000051314 * Math.cos(2.44370363881 + 69.1525242748 * t);
-        Y1 += 0.00000048991 * Math.cos(1.56239422724 + 2.9207613068 * t);
-        Y1 += 0.00000046503 * Math.cos(4.42005243760 + 111.4301614968 * t);
-        Y1 += 0.00000044006 * Math.cos(4.05809370238 + 109.9456887885 * t);
-        Y1 += 0.00000042570 * Math.cos(0.10123710589 + 7.4223635415 * t);
-        Y1 += 0.00000044988 * Math.cos(5.28201871125 + 213.299095438 * t);
-        Y1 += 0.00000039580 * Math.cos(5.66153770824 + 12.5301729722 * t);
-        Y1 += 0.00000039462 * Math.cos(4.26971503039 + 31.5407534988 * t);
-        Y1 += 0.00000042478 * Math.cos(1.87001832960 + 529.6909650946 * t);
-        Y1 += 0.00000037352 * Math.cos(1.59078851213 + 274.0660483248 * t);
-        Y1 += 0.00000043856 * Math.cos(5.16188073218 + 1589.0728952838 * t);
-        Y1 += 0.00000038035 * Math.cos(4.30959223543 + 6.592282139 * t);
-        Y1 += 0.00000037948 * Math.cos(4.41684438344 + 14.0146456805 * t);
-        Y1 += 0.00000041772 * Math.cos(2.67664940250 + 4.192785694 * t);
-        Y1 += 0.00000035716 * Math.cos(1.28021180129 + 84.3428261229 * t);
-        Y1 += 0.00000033039 * Math.cos(1.36957718323 + 27.0873353739 * t);
-        Y1 += 0.00000031101 * Math.cos(0.16833819871 + 1052.2683831884 * t);
-        Y1 += 0.00000034040 * Math.cos(4.46589835489 + 149.5631971346 * t);
-        Y1 += 0.00000029880 * Math.cos(0.76687803071 + 1066.49547719 * t);
-        Y1 += 0.00000033108 * Math.cos(0.88651710158 + 115.8835796217 * t);
-        Y1 += 0.00000030599 * Math.cos(5.59281389749 + 22.633917249 * t);
-        Y1 += 0.00000028690 * Math.cos(6.13341530240 + 106.9767433719 * t);
-        Y1 += 0.00000022862 * Math.cos(6.27256302631 + 44.7253177768 * t);
-        Y1 += 0.00000023139 * Math.cos(5.90845460360 + 106.0135355254 * t);
-        Y1 += 0.00000022438 * Math.cos(4.96206712231 + 63.7358983034 * t);
-        Y1 += 0.00000022382 * Math.cos(2.74288661925 + 175.1660598002 * t);
-        Y1 += 0.00000021638 * Math.cos(5.65601132085 + 5.4166259714 * t);
-        Y1 += 0.00000021675 * Math.cos(2.21726759158 + 316.3918696566 * t);
-        Y1 += 0.00000020371 * Math.cos(6.06747996518 + 62.2514255951 * t);
-        Y1 += 0.00000019878 * Math.cos(5.73044951888 + 32.7164096664 * t);
-        Y1 += 0.00000019754 * Math.cos(2.91920405761 + 49.1787359017 * t);
-        Y1 += 0.00000019233 * Math.cos(4.44323447748 + 6.9010986797 * t);
-        Y1 += 0.00000019579 * Math.cos(4.08479579857 + 24.1183899573 * t);
-        Y1 += 0.00000018371 * Math.cos(3.63021973983 + 227.5261894396 * t);
-        Y1 += 0.00000017014 * Math.cos(2.67275243455 + 91.7864415238 * t);
-        Y1 += 0.00000016400 * Math.cos(3.45346659376 + 33.0252262071 * t);
-        Y1 += 0.00000017244 * Math.cos(4.89548915279 + 11.3063326948 * t);
-        Y1 += 0.00000015590 * Math.cos(3.91877412354 + 39.405060025 * t);
-        Y1 += 0.00000015590 * Math.cos(0.42181314281 + 36.8610112506 * t);
-        Y1 += 0.00000015469 * Math.cos(4.91170345861 + 43.5496616092 * t);
-        Y1 += 0.00000016590 * Math.cos(1.19757976992 + 33.4671691918 * t);
-        Y1 += 0.00000019347 * Math.cos(4.06420216347 + 152.5321425512 * t);
-        Y1 += 0.00000016106 * Math.cos(5.55637349703 + 110.2063212194 * t);
-        Y1 += 0.00000015990 * Math.cos(5.86394572836 + 79.1868325824 * t);
-        Y1 += 0.00000014554 * Math.cos(4.25295399683 + 319.3126309634 * t);
-        Y1 += 0.00000014467 * Math.cos(5.15039251213 + 108.4612160802 * t);
-        Y1 += 0.00000012917 * Math.cos(4.09621487061 + 97.4155158163 * t);
-        Y1 += 0.00000013036 * Math.cos(0.82144801894 + 11.0457002639 * t);
-        Y1 += 0.00000016538 * Math.cos(4.71752472587 + 305.0855369618 * t);
-        Y1 += 0.00000012751 * Math.cos(5.32663710068 + 45.5553991793 * t);
-        Y1 += 0.00000012810 * Math.cos(1.02586299845 + 515.463871093 * t);
-        Y1 += 0.00000013293 * Math.cos(3.14432068639 + 42.7989020838 * t);
-        Y1 += 0.00000011456 * Math.cos(4.72887869013 + 632.7837393132 * t);
-        Y1 += 0.00000011036 * Math.cos(5.39688163697 + 5.1078094307 * t);
-        Y1 += 0.00000010566 * Math.cos(4.99255587274 + 70.8494453042 * t);
-        Y1 += 0.00000011107 * Math.cos(0.75452281256 + 43.2408450685 * t);
-        Y1 += 0.00000012061 * Math.cos(1.63427149054 + 72.0732855816 * t);
-        Y1 += 0.00000010719 * Math.cos(3.07022445403 + 415.2918581812 * t);
-        Y1 += 0.00000011499 * Math.cos(3.05217795552 + 129.9194771616 * t);
-        Y1 += 0.00000010082 * Math.cos(4.02342989288 + 251.4321310758 * t);
-        Y1 += 0.00000011438 * Math.cos(0.01538881296 + 143.6253063014 * t);
-        Y1 += 0.00000008946 * Math.cos(6.14010235660 + 69.3649725959 * t);
-        Y1 += 0.00000009033 * Math.cos(4.46054906321 + 199.0720014364 * t);
-        Y1 += 0.00000009057 * Math.cos(2.51513096487 + 82.8583534146 * t);
-        Y1 += 0.00000007704 * Math.cos(4.34845638776 + 103.0927742186 * t);
-        Y1 += 0.00000008691 * Math.cos(2.29051265602 + 32.5039613453 * t);
-        Y1 += 0.00000007714 * Math.cos(3.51057462873 + 65.2203710117 * t);
-        Y1 += 0.00000008270 * Math.cos(1.13810834747 + 105.4922706636 * t);
-        Y1 += 0.00000007942 * Math.cos(0.24228394666 + 543.9180590962 * t);
-        Y1 += 0.00000007980 * Math.cos(4.52758219936 + 9.5612275556 * t);
-        Y1 += 0.00000007336 * Math.cos(3.43409658476 + 15.4991183888 * t);
-        Y1 += 0.00000007170 * Math.cos(4.60204360080 + 949.1756089698 * t);
-        Y1 += 0.00000009601 * Math.cos(5.68191241461 + 80.7194894005 * t);
-        Y1 += 0.00000007215 * Math.cos(2.59441119165 + 7.1135470008 * t);
-        Y1 += 0.00000008109 * Math.cos(1.70640386998 + 526.5095713569 * t);
-        Y1 += 0.00000008089 * Math.cos(5.77533005950 + 532.8723588323 * t);
-        Y1 += 0.00000008959 * Math.cos(3.92082324720 + 146.594251718 * t);
-        Y1 += 0.00000007060 * Math.cos(5.58846404838 + 64.9597385808 * t);
-        Y1 += 0.00000007826 * Math.cos(2.45321405406 + 76.7873361374 * t);
-        Y1 += 0.00000007134 * Math.cos(2.05010275252 + 43.7621099303 * t);
-        Y1 += 0.00000007698 * Math.cos(4.89116046163 + 14.2270940016 * t);
-        Y1 += 0.00000007998 * Math.cos(5.93005561135 + 6244.9428143536 * t);
-        Y1 += 0.00000006729 * Math.cos(2.56827053883 + 144.1465711632 * t);
-        Y1 += 0.00000006573 * Math.cos(6.28006224390 + 25.6028626656 * t);
-        Y1 += 0.00000006341 * Math.cos(5.24912051627 + 66.70484372 * t);
-        Y1 += 0.00000007564 * Math.cos(1.06571720473 + 10175.1525105732 * t);
-        Y1 += 0.00000006428 * Math.cos(3.47621435986 + 678.0303219518 * t);
-        Y1 += 0.00000005565 * Math.cos(1.26926879287 + 853.196381752 * t);
-        Y1 += 0.00000005483 * Math.cos(2.72811022429 + 42.0651889009 * t);
-        Y1 += 0.00000005483 * Math.cos(1.61247704205 + 34.2008823747 * t);
-        Y1 += 0.00000005441 * Math.cos(3.41928615882 + 449.232108125 * t);
-        Y1 += 0.00000006239 * Math.cos(4.20987230620 + 17.5261078183 * t);
-        Y1 += 0.00000005298 * Math.cos(3.51435743998 + 209.3669421749 * t);
-        Y1 += 0.00000005939 * Math.cos(4.74218001055 + 75.7448064138 * t);
-        Y1 += 0.00000005390 * Math.cos(3.54636234855 + 81.3738807063 * t);
-        Y1 += 0.00000005182 * Math.cos(3.16168083040 + 525.4981794006 * t);
-        Y1 += 0.00000005222 * Math.cos(4.93016626365 + 39.0962434843 * t);
-        Y1 += 0.00000005128 * Math.cos(4.53735580570 + 217.2312487011 * t);
-        Y1 += 0.00000005325 * Math.cos(2.82680294530 + 19.0105805266 * t);
-        Y1 += 0.00000004910 * Math.cos(3.47707268498 + 45.0341343175 * t);
-        Y1 += 0.00000005250 * Math.cos(0.16559323231 + 0.9632078465 * t);
-        Y1 += 0.00000004731 * Math.cos(1.20748690143 + 36.1272980677 * t);
-        Y1 += 0.00000004731 * Math.cos(6.27469301850 + 40.1387732079 * t);
-        Y1 += 0.00000005910 * Math.cos(1.40564906034 + 6168.676743078 * t);
-        Y1 += 0.00000004700 * Math.cos(4.66313687747 + 50.66320861 * t);
-        Y1 += 0.00000005127 * Math.cos(1.64028838320 + 141.1776257466 * t);
-        Y1 += 0.00000005321 * Math.cos(2.09943183100 + 1104.6285128278 * t);
-        Y1 += 0.00000005523 * Math.cos(0.16906422296 + 180.2738692309 * t);
-        Y1 += 0.00000004982 * Math.cos(1.46132044511 + 1090.4014188262 * t);
-        Y1 += 0.00000004689 * Math.cos(5.95510315658 + 1067.9799498983 * t);
-        Y1 += 0.00000005562 * Math.cos(2.83480459801 + 10098.8864392976 * t);
-        Y1 += 0.00000004432 * Math.cos(0.83560291416 + 415.5524906121 * t);
-        Y1 += 0.00000004616 * Math.cos(6.01316355451 + 291.7040307277 * t);
-        Y1 += 0.00000004363 * Math.cos(2.36766479471 + 323.5054166574 * t);
-        Y1 += 0.00000004476 * Math.cos(1.46463751196 + 235.933012687 * t);
-        Y1 += 0.00000004225 * Math.cos(3.28869103693 + 416.7763308895 * t);
-        Y1 += 0.00000004293 * Math.cos(4.40423090446 + 1050.7839104801 * t);
-        Y1 += 0.00000004363 * Math.cos(1.54131949663 + 493.0424021651 * t);
-        Y1 += 0.00000004088 * Math.cos(3.88661191294 + 423.4167971383 * t);
-        Y1 += 0.00000005207 * Math.cos(2.06476816654 + 313.6835566709 * t);
-        Y1 += 0.00000005027 * Math.cos(2.86874047797 + 21.4582610814 * t);
-        Y1 += 0.00000004058 * Math.cos(3.44002042290 + 216.4804891757 * t);
-        Y1 += 0.00000004076 * Math.cos(0.66240216055 + 1127.2624300768 * t);
-        Y1 += 0.00000004013 * Math.cos(2.96768055201 + 104275.34649502118 * t);
-        Y1 += 0.00000004526 * Math.cos(1.70990186850 + 921.0768816396 * t);
-        Y1 += 0.00000003985 * Math.cos(4.60882569276 + 210.1177017003 * t);
-        Y1 += 0.00000003962 * Math.cos(5.59161595323 + 979.1837056505 * t);
-        Y1 += 0.00000005073 * Math.cos(5.15284041286 + 1498.5797300066 * t);
-        Y1 += 0.00000005320 * Math.cos(3.36313436060 + 1409.7140497896 * t);
-        Y1 += 0.00000004227 * Math.cos(6.19959499735 + 534.1443832195 * t);
-        Y1 += 0.00000004054 * Math.cos(2.45805491894 + 429.7795846137 * t);
-        Y1 += 0.00000003934 * Math.cos(2.24314037395 + 67.3592350258 * t);
-        Y1 += 0.00000004367 * Math.cos(0.14073509950 + 58.7399634573 * t);
-        Y1 += 0.00000004788 * Math.cos(2.92950139342 + 137.0330241624 * t);
-        Y1 += 0.00000004039 * Math.cos(5.37066457206 + 1623.0131452276 * t);
-        Y1 += 0.00000004159 * Math.cos(0.13477801653 + 500.1559491659 * t);
-        Y1 += 0.00000004139 * Math.cos(5.19531357710 + 518.3846323998 * t);
-        Y1 += 0.00000004832 * Math.cos(1.21348865282 + 418.0001711669 * t);
-        Y1 += 0.00000004017 * Math.cos(6.16070359357 + 310.7146112543 * t);
-        Y1 += 0.00000003726 * Math.cos(4.94146146407 + 1065.0110044817 * t);
-        Y1 += 0.00000003625 * Math.cos(1.85386744343 + 1022.7333672597 * t);
-        Y1 += 0.00000003887 * Math.cos(0.79597881268 + 913.9633346388 * t);
-        Y1 += 0.00000004341 * Math.cos(1.50696795030 + 366.485629295 * t);
-        Y1 += 0.00000003592 * Math.cos(0.47546131414 + 381.3516082374 * t);
-        Y1 += 0.00000004729 * Math.cos(2.19682932875 + 420.9691165835 * t);
-        Y1 += 0.00000003490 * Math.cos(0.54755432663 + 987.0480121767 * t);
-        Y1 += 0.00000004057 * Math.cos(0.64472041756 + 485.9288551643 * t);
-        Y1 += 0.00000003715 * Math.cos(1.30911252065 + 254.3528923826 * t);
-        Y1 += 0.00000003488 * Math.cos(5.95100033083 + 187.6962327724 * t);
-        Y1 += 0.00000003485 * Math.cos(0.03809274459 + 68.8437077341 * t);
-        Y1 += 0.00000003664 * Math.cos(1.69662357801 + 807.9497991134 * t);
-        Y1 += 0.00000003850 * Math.cos(5.39468147067 + 95.9792272178 * t);
-        Y1 += 0.00000003538 * Math.cos(1.51952071989 + 57.255490749 * t);
-        Y1 += 0.00000003838 * Math.cos(3.56891114817 + 980.146913497 * t);
-        Y1 += 0.00000003677 * Math.cos(1.44481527419 + 647.0108333148 * t);
-        Y1 += 0.00000004165 * Math.cos(4.46350696624 + 59.2824801785 * t);
-        Y1 += 0.00000003318 * Math.cos(5.85573072328 + 565.1156877467 * t);
-        Y1 += 0.00000003420 * Math.cos(4.82347868865 + 1028.3624415522 * t);
-        Y1 += 0.00000003759 * Math.cos(2.39206131226 + 107.4980082337 * t);
-        Y1 += 0.00000004048 * Math.cos(6.25249995325 + 979.9344651759 * t);
-        Y1 += 0.00000003296 * Math.cos(3.06238445589 + 176.6505325085 * t);
-        Y1 += 0.00000004414 * Math.cos(2.00416419002 + 1062.3508756058 * t);
-        Y1 += 0.00000003347 * Math.cos(4.13560698541 + 151.0476698429 * t);
-        Y1 += 0.00000003382 * Math.cos(3.22744171540 + 29.226199388 * t);
-        Y1 += 0.00000003384 * Math.cos(5.39221030070 + 1543.8263126452 * t);
-        Y1 += 0.00000003626 * Math.cos(1.61404627502 + 215.4379594521 * t);
-        Y1 += 0.00000003353 * Math.cos(2.30310064817 + 10289.5516174866 * t);
-        Y1 += 0.00000003213 * Math.cos(0.83729921110 + 569.3084734407 * t);
-        Y1 += 0.00000003353 * Math.cos(1.62614357452 + 157.6399519819 * t);
-        Y1 += 0.00000003339 * Math.cos(5.26711707260 + 443.3424014016 * t);
-        Y1 += 0.00000003188 * Math.cos(2.62886149123 + 361.3778198643 * t);
-        Y1 += 0.00000004305 * Math.cos(4.82335484115 + 67.8804998876 * t);
-        Y1 += 0.00000003156 * Math.cos(6.23564975260 + 432.0842528166 * t);
-        Y1 += 0.00000003757 * Math.cos(2.02840243925 + 296.1574488526 * t);
-        Y1 += 0.00000003956 * Math.cos(2.45889174563 + 837.6972633632 * t);
-        Y1 += 0.00000003138 * Math.cos(0.63906502937 + 347.3631741838 * t);
-        Y1 += 0.00000003097 * Math.cos(1.67133697086 + 392.6579409322 * t);
-        Y1 += 0.00000003407 * Math.cos(4.50916961239 + 911.042573332 * t);
-        Y1 += 0.00000003139 * Math.cos(3.10000522918 + 159.1244246902 * t);
-        Y1 += 0.00000003057 * Math.cos(0.53956960156 + 275.5505210331 * t);
-        Y1 += 0.00000003466 * Math.cos(3.47360810007 + 2145.5905633214 * t);
-        Y1 += 0.00000003286 * Math.cos(1.82621148682 + 435.1962105851 * t);
-        Y1 += 0.00000003023 * Math.cos(5.51732785208 + 1055.1891444952 * t);
-        Y1 += 0.00000002982 * Math.cos(0.07749744178 + 525.7588118315 * t);
-        Y1 += 0.00000002981 * Math.cos(3.52267706671 + 202.2533951741 * t);
-        Y1 += 0.00000003660 * Math.cos(3.52092865004 + 449.2802922348 * t);
-        Y1 += 0.00000002948 * Math.cos(1.11826418213 + 533.6231183577 * t);
-        Y1 += 0.00000003080 * Math.cos(4.35867233934 + 457.617679513 * t);
-        Y1 += 0.00000003610 * Math.cos(1.47397187781 + 54.8078101942 * t);
-        Y1 += 0.00000002934 * Math.cos(5.93987994099 + 385.4962098216 * t);
-        Y1 += 0.00000002889 * Math.cos(4.35555726684 + 117.3198682202 * t);
-        Y1 += 0.00000002968 * Math.cos(1.28092864924 + 613.070583371 * t);
-        Y1 += 0.00000003097 * Math.cos(4.42119013611 + 1395.486955788 * t);
-        Y1 += 0.00000003072 * Math.cos(2.35160808374 + 104.0077979553 * t);
-        Y1 += 0.00000002928 * Math.cos(3.61628849687 + 1131.4552157708 * t);
-        Y1 += 0.00000003216 * Math.cos(2.85672087782 + 53.653405886 * t);
-        Y1 += 0.00000003013 * Math.cos(1.49528242656 + 120.9913890524 * t);
-        Y1 += 0.00000003120 * Math.cos(5.79863032590 + 735.8765135318 * t);
-        Y1 += 0.00000003941 * Math.cos(5.42722030012 + 113.1270825262 * t);
-        Y1 += 0.00000002827 * Math.cos(0.36861231244 + 429.5671362926 * t);
-        Y1 += 0.00000003348 * Math.cos(3.55163029540 + 6284.5603226997 * t);
-        Y1 += 0.00000003028 * Math.cos(4.02336913210 + 309.2783226558 * t);
-        Y1 += 0.00000002772 * Math.cos(0.90661921370 + 138.5174968707 * t);
-        Y1 += 0.00000003177 * Math.cos(5.67750443438 + 1558.0534066468 * t);
-        Y1 += 0.00000003228 * Math.cos(5.13697528251 + 52.3601296394 * t);
-        Y1 += 0.00000002840 * Math.cos(2.42348379224 + 384.2723695442 * t);
-        Y1 += 0.00000002845 * Math.cos(5.41520284472 + 145.1097790097 * t);
-        Y1 += 0.00000002870 * Math.cos(2.30263492521 + 388.4651552382 * t);
-        Y1 += 0.00000003021 * Math.cos(6.10532674477 + 328.3525936572 * t);
-        Y1 += 0.00000003099 * Math.cos(0.00256943840 + 494.4786907636 * t);
-        Y1 += 0.00000002734 * Math.cos(0.79845484023 + 432.2272651685 * t);
-        Y1 += 0.00000003171 * Math.cos(4.97186997436 + 10214.7700189193 * t);
-        Y1 += 0.00000003188 * Math.cos(0.38503108962 + 480.251596762 * t);
-        Y1 += 0.00000002674 * Math.cos(2.29256356627 + 158.3736651648 * t);
-        Y1 += 0.00000002902 * Math.cos(4.22938715950 + 559.2259810233 * t);
-        Y1 += 0.00000002631 * Math.cos(4.21067635648 + 2008.557539159 * t);
-        Y1 += 0.00000003633 * Math.cos(4.69734452582 + 491.5579294568 * t);
-        Y1 += 0.00000002695 * Math.cos(4.24750819850 + 326.4261779642 * t);
-        Y1 += 0.00000002765 * Math.cos(5.71162682199 + 248.4631856592 * t);
-        Y1 += 0.00000002852 * Math.cos(2.90612685298 + 186.472392495 * t);
-        Y1 += 0.00000003051 * Math.cos(6.23496246125 + 6281.5913772831 * t);
-        Y1 += 0.00000003392 * Math.cos(2.32329544675 + 278.2588340188 * t);
-        Y1 += 0.00000002837 * Math.cos(6.07083243848 + 419.7452763061 * t);
-        Y1 += 0.00000002865 * Math.cos(4.16931772851 + 830.5837163624 * t);
-        Y1 += 0.00000002675 * Math.cos(1.31332124432 + 525.2375469697 * t);
-        Y1 += 0.00000002860 * Math.cos(3.66488634500 + 844.810810364 * t);
-        Y1 += 0.00000002565 * Math.cos(5.86862143229 + 348.8476468921 * t);
-        Y1 += 0.00000002904 * Math.cos(2.17328621808 + 906.849787638 * t);
-        Y1 += 0.00000003031 * Math.cos(2.55943985975 + 406.1031376411 * t);
-        Y1 += 0.00000002908 * Math.cos(3.71503425447 + 573.4530750249 * t);
-        Y1 += 0.00000003246 * Math.cos(4.06096110514 + 183.2428146475 * t);
-        Y1 += 0.00000002723 * Math.cos(4.44833095962 + 2.4476805548 * t);
-        Y1 += 0.00000002453 * Math.cos(0.39357442205 + 526.9826521089 * t);
-        Y1 += 0.00000003321 * Math.cos(3.87616257520 + 450.2435000813 * t);
-        Y1 += 0.00000003117 * Math.cos(4.74251087639 + 457.5694954032 * t);
-        Y1 += 0.00000002935 * Math.cos(1.67483427090 + 403.1341922245 * t);
-        Y1 += 0.00000002899 * Math.cos(1.37722380308 + 10211.8010735027 * t);
-        Y1 += 0.00000002458 * Math.cos(3.74216842693 + 450.9772132642 * t);
-        Y1 += 0.00000002614 * Math.cos(3.35465019548 + 946.4672959841 * t);
-        Y1 += 0.00000002454 * Math.cos(3.27913428159 + 195.7729876197 * t);
-        Y1 += 0.00000002412 * Math.cos(2.52729370230 + 846.0828347512 * t);
-        Y1 += 0.00000002878 * Math.cos(2.01178758298 + 947.9517686924 * t);
-        Y1 += 0.00000002546 * Math.cos(0.23206052693 + 1062.5633239269 * t);
-        Y1 += 0.00000002790 * Math.cos(5.78270630930 + 697.743477894 * t);
-        Y1 += 0.00000002387 * Math.cos(2.04192024025 + 654.1243803156 * t);
-        Y1 += 0.00000002443 * Math.cos(2.11904462744 + 693.55069220 * t);
-        Y1 += 0.00000002439 * Math.cos(1.45718608643 + 462.9861213746 * t);
-        Y1 += 0.00000002435 * Math.cos(0.99424789953 + 477.3308354552 * t);
-        Y1 += 0.00000002581 * Math.cos(4.06244202199 + 425.3743505986 * t);
-        Y1 += 0.00000002334 * Math.cos(1.68184256681 + 555.0331953293 * t);
-        Y1 += 0.00000002362 * Math.cos(0.36460504865 + 351.8165923087 * t);
-        Y1 += 0.00000002369 * Math.cos(2.75840527054 + 107.2855599126 * t);
-        Y1 += 0.00000002535 * Math.cos(4.19023254986 + 481.4754370394 * t);
-        Y1 += 0.00000003120 * Math.cos(1.20504579288 + 456.6062875567 * t);
-        Y1 += 0.00000002587 * Math.cos(1.59303622302 + 401.0647641796 * t);
-        Y1 += 0.00000002555 * Math.cos(0.31680200949 + 85.8272988312 * t);
-        Y1 += 0.00000002426 * Math.cos(2.07131427970 + 1050.9963588012 * t);
-        Y1 += 0.00000002261 * Math.cos(3.24988095731 + 644.090072008 * t);
-        Y1 += 0.00000002749 * Math.cos(0.33097945934 + 216.9224321604 * t);
-        Y1 += 0.00000002394 * Math.cos(0.13381278422 + 147.1155165798 * t);
-        Y1 += 0.00000002966 * Math.cos(4.08510494827 + 219.891377577 * t);
-        Y1 += 0.00000002896 * Math.cos(0.71994184395 + 1685.0521225016 * t);
-        Y1 += 0.00000002459 * Math.cos(3.66216487095 + 1019.7644218431 * t);
-        Y1 += 0.00000002325 * Math.cos(0.25393903829 + 443.1299530805 * t);
-        Y1 += 0.00000002385 * Math.cos(3.75336774830 + 598.8434893694 * t);
-        Y1 += 0.00000002853 * Math.cos(5.16708681764 + 170.7126416753 * t);
-        Y1 += 0.00000002219 * Math.cos(2.47902567598 + 558.0021407459 * t);
-        Y1 += 0.00000002857 * Math.cos(5.13991932453 + 834.7765020564 * t);
-        Y1 += 0.00000002233 * Math.cos(4.37347994263 + 709.0498105888 * t);
-        Y1 += 0.00000002336 * Math.cos(2.73654472145 + 210.3301500214 * t);
-        Y1 += 0.00000002258 * Math.cos(5.24636256977 + 29.7474642498 * t);
-        Y1 += 0.00000002504 * Math.cos(4.69350029091 + 659.6104422562 * t);
-        Y1 += 0.00000002398 * Math.cos(5.59175728161 + 23.9059416362 * t);
-        Y1 += 0.00000002915 * Math.cos(5.49123016682 + 2118.7638603784 * t);
-        Y1 += 0.00000002300 * Math.cos(2.19835194508 + 986.2972526513 * t);
-        Y1 += 0.00000002198 * Math.cos(1.21301903023 + 605.9570363702 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 97 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00004539421 * Math.cos(3.45613207922 + 36.6485629295 * t);
-        Y2 += 0.00004347956 * Math.cos(0.88317230351 + 39.6175083461 * t);
-        Y2 -= 0.00003595394;
-        Y2 += 0.00003058647 * Math.cos(5.31956613665 + 38.1330356378 * t);
-        Y2 += 0.00002163809 * Math.cos(0.22086532214 + 76.2660712756 * t);
-        Y2 += 0.00000394632 * Math.cos(4.10915465726 + 35.1640902212 * t);
-        Y2 += 0.00000301094 * Math.cos(0.24659723217 + 41.1019810544 * t);
-        Y2 += 0.00000160365 * Math.cos(5.99443081049 + 206.1855484372 * t);
-        Y2 += 0.00000156892 * Math.cos(2.05073612924 + 220.4126424388 * t);
-        Y2 += 0.00000186626 * Math.cos(0.85138234128 + 2.9689454166 * t);
-        Y2 += 0.00000118091 * Math.cos(2.56552779577 + 522.5774180938 * t);
-        Y2 += 0.00000114478 * Math.cos(4.77209191510 + 35.685355083 * t);
-        Y2 += 0.00000112049 * Math.cos(4.93195559733 + 536.8045120954 * t);
-        Y2 += 0.00000105947 * Math.cos(5.85174809888 + 40.5807161926 * t);
-        Y2 += 0.00000101381 * Math.cos(0.89282766843 + 213.299095438 * t);
-        Y2 += 0.00000064250 * Math.cos(0.91911470350 + 426.598190876 * t);
-        Y2 += 0.00000074114 * Math.cos(3.45086633035 + 73.297125859 * t);
-        Y2 += 0.00000055174 * Math.cos(5.66551452151 + 1.4844727083 * t);
-        Y2 += 0.00000073178 * Math.cos(3.76036290825 + 529.6909650946 * t);
-        Y2 += 0.00000048440 * Math.cos(4.96907121134 + 33.6796175129 * t);
-        Y2 += 0.00000039838 * Math.cos(3.54688811293 + 1059.3819301892 * t);
-        Y2 += 0.00000040074 * Math.cos(0.15979944642 + 4.4534181249 * t);
-        Y2 += 0.00000038264 * Math.cos(5.61111117498 + 42.5864537627 * t);
-        Y2 += 0.00000037331 * Math.cos(1.68041150076 + 74.7815985673 * t);
-        Y2 += 0.00000034068 * Math.cos(1.35876855791 + 98.8999885246 * t);
-        Y2 += 0.00000035542 * Math.cos(0.93237309219 + 31.019488637 * t);
-        Y2 += 0.00000031377 * Math.cos(1.82535381711 + 28.5718080822 * t);
-        Y2 += 0.00000032195 * Math.cos(3.40544588666 + 45.2465826386 * t);
-        Y2 += 0.00000033753 * Math.cos(4.89394943800 + 114.3991069134 * t);
-        Y2 += 0.00000024149 * Math.cos(2.51309690251 + 47.6942631934 * t);
-        Y2 += 0.00000017601 * Math.cos(4.23571655619 + 71.8126531507 * t);
-        Y2 += 0.00000014424 * Math.cos(1.16380358654 + 433.7117378768 * t);
-        Y2 += 0.00000013296 * Math.cos(5.11594991033 + 419.4846438752 * t);
-        Y2 += 0.00000012773 * Math.cos(1.36566781679 + 60.7669528868 * t);
-        Y2 += 0.00000010585 * Math.cos(4.37749847574 + 33.9402499438 * t);
-        Y2 += 0.00000009737 * Math.cos(0.09994710733 + 639.897286314 * t);
-        Y2 += 0.00000009255 * Math.cos(6.18826752854 + 42.3258213318 * t);
-        Y2 += 0.00000009614 * Math.cos(4.21849838607 + 69.1525242748 * t);
-        Y2 += 0.00000007475 * Math.cos(1.92439013241 + 227.5261894396 * t);
-        Y2 += 0.00000006548 * Math.cos(0.70267550536 + 30.0562807905 * t);
-        Y2 += 0.00000006050 * Math.cos(6.11606563250 + 32.1951448046 * t);
-        Y2 += 0.00000006183 * Math.cos(5.51217896352 + 1066.49547719 * t);
-        Y2 += 0.00000006682 * Math.cos(3.28438142988 + 258.5456780766 * t);
-        Y2 += 0.00000005625 * Math.cos(1.49377279665 + 8.0767548473 * t);
-        Y2 += 0.00000005464 * Math.cos(2.05837951315 + 1052.2683831884 * t);
-        Y2 += 0.00000007253 * Math.cos(4.88574084344 + 1097.514965827 * t);
-        Y2 += 0.00000007123 * Math.cos(0.10365585986 + 7.1135470008 * t);
-        Y2 += 0.00000005279 * Math.cos(2.74225674633 + 515.463871093 * t);
-        Y2 += 0.00000005245 * Math.cos(4.48532162531 + 44.070926471 * t);
-        Y2 += 0.00000005436 * Math.cos(3.37011457963 + 106.0135355254 * t);
-        Y2 += 0.00000004786 * Math.cos(3.69029400651 + 46.2097904851 * t);
-        Y2 += 0.00000004497 * Math.cos(5.71847029312 + 77.7505439839 * t);
-        Y2 += 0.00000004688 * Math.cos(0.95059652202 + 221.8971151471 * t);
-        Y2 += 0.00000005380 * Math.cos(1.15105932580 + 22.633917249 * t);
-        Y2 += 0.00000004607 * Math.cos(0.17860892586 + 549.4041210368 * t);
-        Y2 += 0.00000004266 * Math.cos(3.94282464621 + 204.7010757289 * t);
-        Y2 += 0.00000003916 * Math.cos(4.92658748989 + 207.6700211455 * t);
-        Y2 += 0.00000004138 * Math.cos(0.27513803340 + 305.0855369618 * t);
-        Y2 += 0.00000003772 * Math.cos(4.01715205710 + 1589.0728952838 * t);
-        Y2 += 0.00000003692 * Math.cos(5.83408537215 + 103.0927742186 * t);
-        Y2 += 0.00000003567 * Math.cos(0.05095299516 + 199.0720014364 * t);
-        Y2 += 0.00000003671 * Math.cos(2.58949786953 + 319.3126309634 * t);
-        Y2 += 0.00000004833 * Math.cos(5.97669363185 + 214.7835681463 * t);
-        Y2 += 0.00000003268 * Math.cos(4.82052412655 + 543.9180590962 * t);
-        Y2 += 0.00000004004 * Math.cos(4.04738099974 + 532.8723588323 * t);
-        Y2 += 0.00000003288 * Math.cos(3.02036611242 + 408.1783111804 * t);
-        Y2 += 0.00000003980 * Math.cos(3.43246212898 + 526.5095713569 * t);
-        Y2 += 0.00000003149 * Math.cos(1.48284827660 + 343.2185725996 * t);
-        Y2 += 0.00000003347 * Math.cos(5.37102947878 + 531.1754378029 * t);
-        Y2 += 0.00000003932 * Math.cos(5.23322820132 + 91.7864415238 * t);
-        Y2 += 0.00000003754 * Math.cos(4.23519325050 + 944.9828232758 * t);
-        Y2 += 0.00000002967 * Math.cos(5.75718562310 + 860.3099287528 * t);
-        Y2 += 0.00000003974 * Math.cos(3.61988886252 + 336.1050255988 * t);
-        Y2 += 0.00000002818 * Math.cos(4.60765817864 + 1028.3624415522 * t);
-        Y2 += 0.00000002906 * Math.cos(2.33273313695 + 666.723989257 * t);
-        Y2 += 0.00000002999 * Math.cos(2.84956030053 + 937.869276275 * t);
-        Y2 += 0.00000003346 * Math.cos(3.07225023130 + 1162.4747044078 * t);
-        Y2 += 0.00000002925 * Math.cos(3.14539168453 + 235.933012687 * t);
-        Y2 += 0.00000002577 * Math.cos(5.19659933863 + 1073.6090241908 * t);
-        Y2 += 0.00000002576 * Math.cos(1.40688347976 + 26.826702943 * t);
-        Y2 += 0.00000002537 * Math.cos(3.31911455778 + 453.424893819 * t);
-        Y2 += 0.00000002542 * Math.cos(2.65219065285 + 1265.5674786264 * t);
-        Y2 += 0.00000002513 * Math.cos(3.13540704008 + 274.0660483248 * t);
-        Y2 += 0.00000002512 * Math.cos(5.05292759621 + 425.1137181677 * t);
-        Y2 += 0.00000002715 * Math.cos(3.33675296654 + 563.6312150384 * t);
-        Y2 += 0.00000002521 * Math.cos(1.57240665150 + 209.3669421749 * t);
-        Y2 += 0.00000002676 * Math.cos(1.03964391295 + 454.9093665273 * t);
-        Y2 += 0.00000002516 * Math.cos(0.17461911782 + 217.2312487011 * t);
-        Y2 += 0.00000002948 * Math.cos(1.39017874119 + 149.5631971346 * t);
-        Y2 += 0.00000002343 * Math.cos(3.50680783274 + 981.6313862053 * t);
-        Y2 += 0.00000002501 * Math.cos(3.24490790448 + 669.6447505638 * t);
-        Y2 += 0.00000002600 * Math.cos(2.68967944960 + 518.3846323998 * t);
-        Y2 += 0.00000002481 * Math.cos(0.85513013918 + 655.4176565622 * t);
-        Y2 += 0.00000002569 * Math.cos(2.65543572954 + 464.7312265138 * t);
-        Y2 += 0.00000003029 * Math.cos(4.41598697999 + 129.9194771616 * t);
-        Y2 += 0.00000002469 * Math.cos(5.36564537139 + 952.0963702766 * t);
-        Y2 += 0.00000002911 * Math.cos(1.43497141751 + 312.1990839626 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 34 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00000192703 * Math.cos(5.55088601013 + 36.6485629295 * t);
-        Y3 += 0.00000182218 * Math.cos(5.07306416874 + 39.6175083461 * t);
-        Y3 += 0.00000176062;
-        Y3 += 0.00000130731 * Math.cos(2.18169161636 + 38.1330356378 * t);
-        Y3 += 0.00000085913 * Math.cos(5.13938436433 + 76.2660712756 * t);
-        Y3 += 0.00000022391 * Math.cos(1.40974623300 + 206.1855484372 * t);
-        Y3 += 0.00000021976 * Math.cos(0.35990434774 + 35.1640902212 * t);
-        Y3 += 0.00000021616 * Math.cos(0.31423526140 + 220.4126424388 * t);
-        Y3 += 0.00000019807 * Math.cos(3.98068286016 + 41.1019810544 * t);
-        Y3 += 0.00000016260 * Math.cos(4.28868471106 + 522.5774180938 * t);
-        Y3 += 0.00000015443 * Math.cos(3.21548919996 + 536.8045120954 * t);
-        Y3 += 0.00000012955 * Math.cos(4.80389987769 + 7.1135470008 * t);
-        Y3 += 0.00000006772 * Math.cos(5.90918311556 + 69.1525242748 * t);
-        Y3 += 0.00000004516 * Math.cos(1.71813250497 + 45.2465826386 * t);
-        Y3 += 0.00000004524 * Math.cos(2.61630263117 + 31.019488637 * t);
-        Y3 += 0.00000003915 * Math.cos(5.34760325763 + 426.598190876 * t);
-        Y3 += 0.00000003668 * Math.cos(2.97575518967 + 98.8999885246 * t);
-        Y3 += 0.00000003656 * Math.cos(2.17225276546 + 968.888764912 * t);
-        Y3 += 0.00000003625 * Math.cos(4.19846251857 + 484.444382456 * t);
-        Y3 += 0.00000003199 * Math.cos(3.24405632993 + 1519.920371009 * t);
-        Y3 += 0.00000003498 * Math.cos(4.84555442740 + 408.1783111804 * t);
-        Y3 += 0.00000003304 * Math.cos(3.81824435305 + 422.405405182 * t);
-        Y3 += 0.00000003504 * Math.cos(3.04074125117 + 498.6714764576 * t);
-        Y3 += 0.00000002689 * Math.cos(5.61172759773 + 440.8252848776 * t);
-        Y3 += 0.00000002662 * Math.cos(2.02690818443 + 305.0855369618 * t);
-        Y3 += 0.00000002644 * Math.cos(0.90420046363 + 462.0229135281 * t);
-        Y3 += 0.00000002578 * Math.cos(5.32866422293 + 395.578702239 * t);
-        Y3 += 0.00000002565 * Math.cos(5.46700757767 + 433.7117378768 * t);
-        Y3 += 0.00000002542 * Math.cos(1.05107150537 + 444.8268741099 * t);
-        Y3 += 0.00000002471 * Math.cos(0.92256756337 + 319.3126309634 * t);
-        Y3 += 0.00000002354 * Math.cos(2.03258956751 + 447.7958195265 * t);
-        Y3 += 0.00000002876 * Math.cos(3.65434826122 + 853.196381752 * t);
-        Y3 += 0.00000002279 * Math.cos(6.20788162950 + 459.0539681115 * t);
-        Y3 += 0.00000002147 * Math.cos(1.06532572636 + 175.1660598002 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 7 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000004229 * Math.cos(6.14485774863 + 515.463871093 * t);
-        Y4 += 0.00000004334 * Math.cos(3.84569500845 + 433.7117378768 * t);
-        Y4 += 0.00000003547 * Math.cos(1.04321243122 + 990.2294059144 * t);
-        Y4 += 0.00000003155 * Math.cos(0.14082926066 + 467.6519878206 * t);
-        Y4 += 0.00000003017 * Math.cos(4.77719363131 + 227.5261894396 * t);
-        Y4 += 0.00000002341 * Math.cos(4.83747395607 + 220.4126424388 * t);
-        Y4 += 0.00000002295 * Math.cos(3.13221204419 + 206.1855484372 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 1 term of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000000;
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 133 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.92866054405 * Math.cos(1.44103930278 + 38.1330356378 * t);
-        Z0 += 0.01245978462;
-        Z0 += 0.00474333567 * Math.cos(2.52218774238 + 36.6485629295 * t);
-        Z0 += 0.00451987936 * Math.cos(3.50949720541 + 39.6175083461 * t);
-        Z0 += 0.00417558068 * Math.cos(5.91310695421 + 76.2660712756 * t);
-        Z0 += 0.00084104329 * Math.cos(4.38928900096 + 1.4844727083 * t);
-        Z0 += 0.00032704958 * Math.cos(1.52048692001 + 74.7815985673 * t);
-        Z0 += 0.00030873335 * Math.cos(3.29017611456 + 35.1640902212 * t);
-        Z0 += 0.00025812584 * Math.cos(3.19303128782 + 2.9689454166 * t);
-        Z0 += 0.00016865319 * Math.cos(2.13251104425 + 41.1019810544 * t);
-        Z0 += 0.00011789909 * Math.cos(3.60001877675 + 213.299095438 * t);
-        Z0 += 0.00009770125 * Math.cos(2.80133971586 + 73.297125859 * t);
-        Z0 += 0.00011279680 * Math.cos(3.55816676334 + 529.6909650946 * t);
-        Z0 += 0.00004119873 * Math.cos(1.67934316836 + 77.7505439839 * t);
-        Z0 += 0.00002818034 * Math.cos(4.10661077794 + 114.3991069134 * t);
-        Z0 += 0.00002868677 * Math.cos(4.27011526203 + 33.6796175129 * t);
-        Z0 += 0.00002213464 * Math.cos(1.96045135168 + 4.4534181249 * t);
-        Z0 += 0.00001865650 * Math.cos(5.05540709577 + 71.8126531507 * t);
-        Z0 += 0.00000840177 * Math.cos(0.94268885160 + 42.5864537627 * t);
-        Z0 += 0.00000457516 * Math.cos(5.71650412080 + 108.4612160802 * t);
-        Z0 += 0.00000530252 * Math.cos(0.85800267793 + 111.4301614968 * t);
-        Z0 += 0.00000490859 * Math.cos(6.07827301209 + 112.9146342051 * t);
-        Z0 += 0.00000331254 * Math.cos(0.29304964526 + 70.3281804424 * t);
-        Z0 += 0.00000330045 * Math.cos(2.83839676215 + 426.598190876 * t);
-        Z0 += 0.00000273589 * Math.cos(3.91013681794 + 1059.3819301892 * t);
-        Z0 += 0.00000277586 * Math.cos(1.45092010545 + 148.0787244263 * t);
-        Z0 += 0.00000274474 * Math.cos(5.42657022437 + 32.1951448046 * t);
-        Z0 += 0.00000205306 * Math.cos(0.75818737085 + 5.9378908332 * t);
-        Z0 += 0.00000173516 * Math.cos(5.85498030099 + 145.1097790097 * t);
-        Z0 += 0.00000141275 * Math.cos(1.73147597657 + 28.5718080822 * t);
-        Z0 += 0.00000139093 * Math.cos(1.67466701191 + 184.7272873558 * t);
-        Z0 += 0.00000143647 * Math.cos(2.51620047812 + 37.611770776 * t);
-        Z0 += 0.00000136955 * Math.cos(0.20339778664 + 79.2350166922 * t);
-        Z0 += 0.00000126296 * Math.cos(4.40661385040 + 37.1698277913 * t);
-        Z0 += 0.00000120906 * Math.cos(1.61767636602 + 39.0962434843 * t);
-        Z0 += 0.00000111761 * Math.cos(6.20948230785 + 98.8999885246 * t);
-        Z0 += 0.00000140758 * Math.cos(3.50944989694 + 38.6543004996 * t);
-        Z0 += 0.00000111589 * Math.cos(4.18561395578 + 47.6942631934 * t);
-        Z0 += 0.00000133509 * Math.cos(4.78977105547 + 38.084851528 * t);
-        Z0 += 0.00000102622 * Math.cos(0.81673762159 + 4.192785694 * t);
-        Z0 += 0.00000133292 * Math.cos(1.23386935925 + 38.1812197476 * t);
-        Z0 += 0.00000098771 * Math.cos(0.72335005782 + 106.9767433719 * t);
-        Z0 += 0.00000093919 * Math.cos(0.56607810948 + 206.1855484372 * t);
-        Z0 += 0.00000081727 * Math.cos(3.47861315258 + 220.4126424388 * t);
-        Z0 += 0.00000074559 * Math.cos(2.31518880439 + 312.1990839626 * t);
-        Z0 += 0.00000074401 * Math.cos(5.99935727164 + 181.7583419392 * t);
-        Z0 += 0.00000073141 * Math.cos(1.80069951634 + 137.0330241624 * t);
-        Z0 += 0.00000066838 * Math.cos(1.87185330904 + 221.3758502853 * t);
-        Z0 += 0.00000058303 * Math.cos(5.61662561548 + 35.685355083 * t);
-        Z0 += 0.00000051685 * Math.cos(6.02831347649 + 44.070926471 * t);
-        Z0 += 0.00000051928 * Math.cos(0.40473854286 + 40.5807161926 * t);
-        Z0 += 0.00000048182 * Math.cos(2.97141991737 + 37.8724032069 * t);
-        Z0 += 0.00000049439 * Math.cos(1.66178905717 + 68.8437077341 * t);
-        Z0 += 0.00000047742 * Math.cos(3.05261105371 + 38.3936680687 * t);
-        Z0 += 0.00000046428 * Math.cos(2.66596739242 + 146.594251718 * t);
-        Z0 += 0.00000050936 * Math.cos(0.19994012329 + 30.0562807905 * t);
-        Z0 += 0.00000041127 * Math.cos(6.05239303825 + 115.8835796217 * t);
-        Z0 += 0.00000055537 * Math.cos(2.11977296055 + 109.9456887885 * t);
-        Z0 += 0.00000041357 * Math.cos(0.86667380713 + 143.6253063014 * t);
-        Z0 += 0.00000044492 * Math.cos(6.00613878606 + 149.5631971346 * t);
-        Z0 += 0.00000037856 * Math.cos(5.19945796177 + 72.0732855816 * t);
-        Z0 += 0.00000047361 * Math.cos(3.58964541604 + 38.0211610532 * t);
-        Z0 += 0.00000034690 * Math.cos(1.47398766326 + 8.0767548473 * t);
-        Z0 += 0.00000037349 * Math.cos(5.15067903040 + 33.9402499438 * t);
-        Z0 += 0.00000034386 * Math.cos(6.15246630929 + 218.4069048687 * t);
-        Z0 += 0.00000047180 * Math.cos(2.43405967107 + 38.2449102224 * t);
-        Z0 += 0.00000033382 * Math.cos(0.88396990078 + 42.3258213318 * t);
-        Z0 += 0.00000040753 * Math.cos(3.59668759304 + 522.5774180938 * t);
-        Z0 += 0.00000033071 * Math.cos(2.02572550598 + 258.0244132148 * t);
-        Z0 += 0.00000038849 * Math.cos(5.79294381756 + 46.2097904851 * t);
-        Z0 += 0.00000031716 * Math.cos(0.30412624027 + 536.8045120954 * t);
-        Z0 += 0.00000027605 * Math.cos(2.81540405940 + 183.2428146475 * t);
-        Z0 += 0.00000024616 * Math.cos(0.40597272412 + 30.7106720963 * t);
-        Z0 += 0.00000021716 * Math.cos(0.90792314747 + 175.1660598002 * t);
-        Z0 += 0.00000021634 * Math.cos(3.25469228647 + 388.4651552382 * t);
-        Z0 += 0.00000020384 * Math.cos(5.80954414865 + 7.4223635415 * t);
-        Z0 += 0.00000018640 * Math.cos(1.06424642993 + 180.2738692309 * t);
-        Z0 += 0.00000016716 * Math.cos(0.02332590259 + 255.0554677982 * t);
-        Z0 += 0.00000018790 * Math.cos(0.62408059806 + 35.212274331 * t);
-        Z0 += 0.00000016990 * Math.cos(2.19726523790 + 294.6729761443 * t);
-        Z0 += 0.00000016083 * Math.cos(4.20629091415 + 0.9632078465 * t);
-        Z0 += 0.00000021571 * Math.cos(2.39337706760 + 152.5321425512 * t);
-        Z0 += 0.00000017102 * Math.cos(5.39964889794 + 41.0537969446 * t);
-        Z0 += 0.00000014503 * Math.cos(4.66614523797 + 110.2063212194 * t);
-        Z0 += 0.00000015218 * Math.cos(2.93182248771 + 219.891377577 * t);
-        Z0 += 0.00000014757 * Math.cos(2.02029526083 + 105.4922706636 * t);
-        Z0 += 0.00000013303 * Math.cos(2.09362099250 + 639.897286314 * t);
-        Z0 += 0.00000013582 * Math.cos(0.99222619680 + 44.7253177768 * t);
-        Z0 += 0.00000011309 * Math.cos(4.15253392707 + 487.3651437628 * t);
-        Z0 += 0.00000012521 * Math.cos(0.41449986025 + 186.2117600641 * t);
-        Z0 += 0.00000012363 * Math.cos(3.07599476497 + 6.592282139 * t);
-        Z0 += 0.00000010825 * Math.cos(4.13817476053 + 0.5212648618 * t);
-        Z0 += 0.00000014304 * Math.cos(5.15644933777 + 31.5407534988 * t);
-        Z0 += 0.00000010056 * Math.cos(4.27077049743 + 1589.0728952838 * t);
-        Z0 += 0.00000009355 * Math.cos(1.23360360711 + 216.9224321604 * t);
-        Z0 += 0.00000008774 * Math.cos(5.77195684843 + 12.5301729722 * t);
-        Z0 += 0.00000008445 * Math.cos(0.17584724644 + 291.7040307277 * t);
-        Z0 += 0.00000008927 * Math.cos(2.36869187243 + 331.3215390738 * t);
-        Z0 += 0.00000009613 * Math.cos(0.28151591238 + 60.7669528868 * t);
-        Z0 += 0.00000008279 * Math.cos(5.72084525545 + 36.7604375141 * t);
-        Z0 += 0.00000009111 * Math.cos(3.49027191661 + 45.2465826386 * t);
-        Z0 += 0.00000008178 * Math.cos(0.25637861075 + 39.5056337615 * t);
-        Z0 += 0.00000008598 * Math.cos(3.10287346009 + 256.5399405065 * t);
-        Z0 += 0.00000009489 * Math.cos(4.94205919676 + 151.0476698429 * t);
-        Z0 += 0.00000008564 * Math.cos(2.15904622462 + 274.0660483248 * t);
-        Z0 += 0.00000007474 * Math.cos(2.93279436008 + 27.0873353739 * t);
-        Z0 += 0.00000007944 * Math.cos(0.38277699900 + 10213.285546211 * t);
-        Z0 += 0.00000007132 * Math.cos(1.50971234331 + 944.9828232758 * t);
-        Z0 += 0.00000009005 * Math.cos(0.07284074730 + 419.4846438752 * t);
-        Z0 += 0.00000007642 * Math.cos(5.56097006597 + 187.6962327724 * t);
-        Z0 += 0.00000007705 * Math.cos(1.54152595157 + 84.3428261229 * t);
-        Z0 += 0.00000006896 * Math.cos(4.71453324740 + 406.1031376411 * t);
-        Z0 += 0.00000007282 * Math.cos(5.81348163927 + 316.3918696566 * t);
-        Z0 += 0.00000006215 * Math.cos(5.27967153537 + 7.1135470008 * t);
-        Z0 += 0.00000006090 * Math.cos(4.48506819561 + 415.2918581812 * t);
-        Z0 += 0.00000006316 * Math.cos(0.59502514374 + 453.424893819 * t);
-        Z0 += 0.00000006177 * Math.cos(5.20115334051 + 80.7194894005 * t);
-        Z0 += 0.00000006324 * Math.cos(2.18406254461 + 142.1408335931 * t);
-        Z0 += 0.00000005646 * Math.cos(0.76840537906 + 11.0457002639 * t);
-        Z0 += 0.00000006102 * Math.cos(5.58764378724 + 662.531203563 * t);
-        Z0 += 0.00000005334 * Math.cos(4.52703538458 + 103.0927742186 * t);
-        Z0 += 0.00000006269 * Math.cos(1.95162790177 + 605.9570363702 * t);
-        Z0 += 0.00000005591 * Math.cos(5.20631788297 + 14.0146456805 * t);
-        Z0 += 0.00000004914 * Math.cos(1.39906038110 + 253.5709950899 * t);
-        Z0 += 0.00000004519 * Math.cos(2.07610590431 + 2042.4977891028 * t);
-        Z0 += 0.00000005681 * Math.cos(4.80791039970 + 641.1211265914 * t);
-        Z0 += 0.00000006294 * Math.cos(0.56936923702 + 31.019488637 * t);
-        Z0 += 0.00000004758 * Math.cos(2.54312258712 + 367.9701020033 * t);
-        Z0 += 0.00000004406 * Math.cos(0.33696669222 + 328.3525936572 * t);
-        Z0 += 0.00000004390 * Math.cos(5.08949604858 + 286.596221297 * t);
-        Z0 += 0.00000004678 * Math.cos(4.87546696295 + 442.7517005706 * t);
-        Z0 += 0.00000004407 * Math.cos(5.58110402011 + 252.0865223816 * t);
-        Z0 += 0.00000004305 * Math.cos(1.31724140028 + 493.0424021651 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 37 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00154885971 * Math.cos(2.14239039664 + 38.1330356378 * t);
-        Z1 += 0.00007783708 * Math.cos(4.40146905905 + 36.6485629295 * t);
-        Z1 += 0.00006862414 * Math.cos(1.65930160610 + 39.6175083461 * t);
-        Z1 += 0.00009464276;
-        Z1 += 0.00003891873 * Math.cos(5.46761139427 + 76.2660712756 * t);
-        Z1 += 0.00000794811 * Math.cos(5.98635430889 + 35.1640902212 * t);
-        Z1 += 0.00000539404 * Math.cos(4.94521335014 + 213.299095438 * t);
-        Z1 += 0.00000506405 * Math.cos(0.44976388514 + 41.1019810544 * t);
-        Z1 += 0.00000388058 * Math.cos(1.52509517254 + 529.6909650946 * t);
-        Z1 += 0.00000374315 * Math.cos(1.56222971632 + 2.9689454166 * t);
-        Z1 += 0.00000177485 * Math.cos(4.37166358766 + 73.297125859 * t);
-        Z1 += 0.00000183128 * Math.cos(5.40794621153 + 1.4844727083 * t);
-        Z1 += 0.00000087976 * Math.cos(2.11626897005 + 74.7815985673 * t);
-        Z1 += 0.00000079923 * Math.cos(0.27163282735 + 77.7505439839 * t);
-        Z1 += 0.00000064900 * Math.cos(0.27452505078 + 4.4534181249 * t);
-        Z1 += 0.00000064916 * Math.cos(0.65218136897 + 33.6796175129 * t);
-        Z1 += 0.00000050481 * Math.cos(3.57774720787 + 114.3991069134 * t);
-        Z1 += 0.00000040463 * Math.cos(5.47127522302 + 42.5864537627 * t);
-        Z1 += 0.00000033263 * Math.cos(5.25282819024 + 71.8126531507 * t);
-        Z1 += 0.00000037061 * Math.cos(2.26064076084 + 206.1855484372 * t);
-        Z1 += 0.00000028944 * Math.cos(1.78668325326 + 220.4126424388 * t);
-        Z1 += 0.00000026739 * Math.cos(4.07806359670 + 37.611770776 * t);
-        Z1 += 0.00000025314 * Math.cos(0.49306464842 + 426.598190876 * t);
-        Z1 += 0.00000026252 * Math.cos(1.94513334993 + 38.6543004996 * t);
-        Z1 += 0.00000019382 * Math.cos(2.56210662167 + 1059.3819301892 * t);
-        Z1 += 0.00000013798 * Math.cos(4.85174976550 + 536.8045120954 * t);
-        Z1 += 0.00000015477 * Math.cos(4.12583404955 + 28.5718080822 * t);
-        Z1 += 0.00000012100 * Math.cos(3.10752065642 + 111.4301614968 * t);
-        Z1 += 0.00000014021 * Math.cos(4.12685780506 + 35.685355083 * t);
-        Z1 += 0.00000012665 * Math.cos(1.89493761132 + 40.5807161926 * t);
-        Z1 += 0.00000014126 * Math.cos(2.27105401422 + 98.8999885246 * t);
-        Z1 += 0.00000010241 * Math.cos(1.88890726131 + 137.0330241624 * t);
-        Z1 += 0.00000011332 * Math.cos(1.89669399414 + 47.6942631934 * t);
-        Z1 += 0.00000012100 * Math.cos(5.46321803942 + 522.5774180938 * t);
-        Z1 += 0.00000009264 * Math.cos(5.30245876403 + 5.9378908332 * t);
-        Z1 += 0.00000007474 * Math.cos(4.96934284190 + 112.9146342051 * t);
-        Z1 += 0.00000006008 * Math.cos(0.92667374096 + 70.3281804424 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 11 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00001264840 * Math.cos(1.91401498992 + 38.1330356378 * t);
-        Z2 += 0.00000130346 * Math.cos(1.12728833394 + 36.6485629295 * t);
-        Z2 += 0.00000127993 * Math.cos(4.77241139328 + 39.6175083461 * t);
-        Z2 += 0.00000063370 * Math.cos(4.37315671512 + 76.2660712756 * t);
-        Z2 += 0.00000037204 * Math.cos(0.08914062856 + 213.299095438 * t);
-        Z2 += 0.00000027192 * Math.cos(3.01280704770 + 529.6909650946 * t);
-        Z2 -= 0.00000033276;
-        Z2 += 0.00000012004 * Math.cos(1.70952552971 + 35.1640902212 * t);
-        Z2 += 0.00000009304 * Math.cos(4.23010808782 + 41.1019810544 * t);
-        Z2 += 0.00000006521 * Math.cos(0.77866473081 + 220.4126424388 * t);
-        Z2 += 0.00000005653 * Math.cos(4.33530686667 + 206.1855484372 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 2 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000124222 * Math.cos(3.06928911462 + 38.1330356378 * t);
-        Z3 += 0.00000004438 * Math.cos(3.98008913039 + 36.6485629295 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 1 term of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000000000;
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 1 term of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000000;
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
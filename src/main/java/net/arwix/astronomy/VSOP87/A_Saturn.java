@@ -1,7659 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   SATURN - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX J2000
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 1 BC < Date < 4000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class A_Saturn {
-
-    static double X0(double t) // 1652 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 9.51638335797 * Math.cos(0.87441380794 + 213.299095438 * t);
-        X0 += 0.26412374238 * Math.cos(0.12390892620 + 426.598190876 * t);
-        X0 += 0.06760430339 * Math.cos(4.16767145778 + 206.1855484372 * t);
-        X0 += 0.06624260115 * Math.cos(0.75094737780 + 220.4126424388 * t);
-        X0 += 0.04244797817;
-        X0 += 0.02336340488 * Math.cos(2.02227784673 + 7.1135470008 * t);
-        X0 += 0.01255372247 * Math.cos(2.17338917731 + 110.2063212194 * t);
-        X0 += 0.01115684467 * Math.cos(3.15686878377 + 419.4846438752 * t);
-        X0 += 0.01097683232 * Math.cos(5.65753337256 + 639.897286314 * t);
-        X0 += 0.00716328481 * Math.cos(2.71149993708 + 316.3918696566 * t);
-        X0 += 0.00509313365 * Math.cos(4.95865624780 + 103.0927742186 * t);
-        X0 += 0.00433994439 * Math.cos(0.72012820974 + 529.6909650946 * t);
-        X0 += 0.00372894461 * Math.cos(0.00137195497 + 433.7117378768 * t);
-        X0 += 0.00097843523 * Math.cos(1.01485750417 + 323.5054166574 * t);
-        X0 += 0.00080600536 * Math.cos(5.62103979796 + 11.0457002639 * t);
-        X0 += 0.00083782316 * Math.cos(0.62038893702 + 227.5261894396 * t);
-        X0 += 0.00074150224 * Math.cos(2.38206066655 + 632.7837393132 * t);
-        X0 += 0.00070219382 * Math.cos(0.88789752415 + 209.3669421749 * t);
-        X0 += 0.00068855792 * Math.cos(4.01788097627 + 217.2312487011 * t);
-        X0 += 0.00065620467 * Math.cos(2.69728593339 + 202.2533951741 * t);
-        X0 += 0.00058297911 * Math.cos(2.16155251399 + 224.3447957019 * t);
-        X0 += 0.00054022837 * Math.cos(4.90928184374 + 853.196381752 * t);
-        X0 += 0.00045550446 * Math.cos(1.88235037830 + 14.2270940016 * t);
-        X0 += 0.00038345667 * Math.cos(4.39815501478 + 199.0720014364 * t);
-        X0 += 0.00044551703 * Math.cos(5.60763553535 + 63.7358983034 * t);
-        X0 += 0.00025165185 * Math.cos(0.37800582257 + 216.4804891757 * t);
-        X0 += 0.00024554499 * Math.cos(4.53150598095 + 210.1177017003 * t);
-        X0 += 0.00024673219 * Math.cos(5.90891573850 + 522.5774180938 * t);
-        X0 += 0.00024677050 * Math.cos(5.60389382420 + 415.5524906121 * t);
-        X0 += 0.00025491374 * Math.cos(1.63922423181 + 117.3198682202 * t);
-        X0 += 0.00031253049 * Math.cos(4.62976601833 + 735.8765135318 * t);
-        X0 += 0.00023372467 * Math.cos(5.53491987276 + 647.0108333148 * t);
-        X0 += 0.00023355468 * Math.cos(0.18791490124 + 149.5631971346 * t);
-        X0 += 0.00024805815 * Math.cos(5.50327676733 + 74.7815985673 * t);
-        X0 += 0.00014731703 * Math.cos(4.67981909838 + 277.0349937414 * t);
-        X0 += 0.00012427525 * Math.cos(1.02995545746 + 1059.3819301892 * t);
-        X0 += 0.00009943329 * Math.cos(0.84628387596 + 3.9321532631 * t);
-        X0 += 0.00012393514 * Math.cos(4.19747622821 + 490.3340891794 * t);
-        X0 += 0.00012026472 * Math.cos(5.66372282839 + 351.8165923087 * t);
-        X0 += 0.00008222014 * Math.cos(2.47875301104 + 742.9900605326 * t);
-        X0 += 0.00009087093 * Math.cos(4.33505326762 + 1052.2683831884 * t);
-        X0 += 0.00006717741 * Math.cos(5.51897460997 + 838.9692877504 * t);
-        X0 += 0.00006232999 * Math.cos(2.45837758015 + 846.0828347512 * t);
-        X0 += 0.00007161671 * Math.cos(2.18152751738 + 95.9792272178 * t);
-        X0 += 0.00006321101 * Math.cos(0.83915408770 + 309.2783226558 * t);
-        X0 += 0.00006074958 * Math.cos(6.15905897331 + 440.8252848776 * t);
-        X0 += 0.00005343894 * Math.cos(3.60046273598 + 412.3710968744 * t);
-        X0 += 0.00004860582 * Math.cos(0.26461045175 + 536.8045120954 * t);
-        X0 += 0.00005775802 * Math.cos(5.30717695229 + 38.1330356378 * t);
-        X0 += 0.00005194178 * Math.cos(4.54584467686 + 210.8514148832 * t);
-        X0 += 0.00005152474 * Math.cos(0.34669517150 + 215.7467759928 * t);
-        X0 += 0.00003792540 * Math.cos(5.99766568983 + 422.6660376129 * t);
-        X0 += 0.00003762834 * Math.cos(3.72112920226 + 212.3358875915 * t);
-        X0 += 0.00003747433 * Math.cos(1.16965137714 + 214.2623032845 * t);
-        X0 += 0.00003114576 * Math.cos(0.84631897292 + 213.2509113282 * t);
-        X0 += 0.00003113641 * Math.cos(4.04410367190 + 213.3472795478 * t);
-        X0 += 0.00002990421 * Math.cos(0.04148806852 + 625.6701923124 * t);
-        X0 += 0.00004111695 * Math.cos(5.96153153046 + 137.0330241624 * t);
-        X0 += 0.00002966450 * Math.cos(5.39568820046 + 138.5174968707 * t);
-        X0 += 0.00002827527 * Math.cos(0.73252555642 + 330.6189636582 * t);
-        X0 += 0.00003363323 * Math.cos(1.42089586686 + 437.6438911399 * t);
-        X0 += 0.00002886599 * Math.cos(1.14057922619 + 85.8272988312 * t);
-        X0 += 0.00002634075 * Math.cos(5.40645201521 + 288.0806940053 * t);
-        X0 += 0.00002713354 * Math.cos(0.96812639712 + 203.7378678824 * t);
-        X0 += 0.00003169390 * Math.cos(5.76640408988 + 76.2660712756 * t);
-        X0 += 0.00002618634 * Math.cos(5.49334837098 + 127.4717966068 * t);
-        X0 += 0.00002527746 * Math.cos(5.09752068381 + 628.8515860501 * t);
-        X0 += 0.00002989778 * Math.cos(4.15673836604 + 1066.49547719 * t);
-        X0 += 0.00002507415 * Math.cos(1.49447138038 + 9.5612275556 * t);
-        X0 += 0.00002470181 * Math.cos(5.27435870056 + 1155.361157407 * t);
-        X0 += 0.00002427626 * Math.cos(3.97311214231 + 222.8603229936 * t);
-        X0 += 0.00003128325 * Math.cos(4.05483976553 + 1368.660252845 * t);
-        X0 += 0.00002309076 * Math.cos(3.67821438247 + 430.5303441391 * t);
-        X0 += 0.00002162629 * Math.cos(3.26951119901 + 340.7708920448 * t);
-        X0 += 0.00002912676 * Math.cos(1.76893577106 + 3.1813937377 * t);
-        X0 += 0.00002095366 * Math.cos(3.55759089756 + 423.4167971383 * t);
-        X0 += 0.00002335270 * Math.cos(5.86791072516 + 388.4651552382 * t);
-        X0 += 0.00001634262 * Math.cos(4.54357767539 + 12.5301729722 * t);
-        X0 += 0.00001635975 * Math.cos(2.19968869780 + 212.7778305762 * t);
-        X0 += 0.00001632759 * Math.cos(2.69164822165 + 213.8203602998 * t);
-        X0 += 0.00001498689 * Math.cos(3.60168057129 + 52.6901980395 * t);
-        X0 += 0.00001461217 * Math.cos(5.92456743836 + 429.7795846137 * t);
-        X0 += 0.00001963947 * Math.cos(2.05086487180 + 1.4844727083 * t);
-        X0 += 0.00001538425 * Math.cos(4.78544077085 + 860.3099287528 * t);
-        X0 += 0.00001485856 * Math.cos(5.65501463408 + 949.1756089698 * t);
-        X0 += 0.00001418116 * Math.cos(5.41419993599 + 350.3321196004 * t);
-        X0 += 0.00001147607 * Math.cos(0.19147238521 + 942.062061969 * t);
-        X0 += 0.00001111703 * Math.cos(0.47907488492 + 234.6397364404 * t);
-        X0 += 0.00001019566 * Math.cos(5.00707811029 + 1471.7530270636 * t);
-        X0 += 0.00001009190 * Math.cos(1.34289487761 + 265.9892934775 * t);
-        X0 += 0.00000977078 * Math.cos(6.08156695465 + 515.463871093 * t);
-        X0 += 0.00001089450 * Math.cos(5.82690672710 + 362.8622925726 * t);
-        X0 += 0.00001092244 * Math.cos(1.13561107749 + 173.9422195228 * t);
-        X0 += 0.00001173456 * Math.cos(3.79591687208 + 1685.0521225016 * t);
-        X0 += 0.00000867990 * Math.cos(3.23603400378 + 210.3783341312 * t);
-        X0 += 0.00001118369 * Math.cos(3.46624149583 + 703.6331846174 * t);
-        X0 += 0.00000867952 * Math.cos(1.65168536612 + 216.2198567448 * t);
-        X0 += 0.00001150595 * Math.cos(3.74707160019 + 200.7689224658 * t);
-        X0 += 0.00000829641 * Math.cos(0.58167216896 + 212.5483359126 * t);
-        X0 += 0.00000825033 * Math.cos(4.30734330456 + 214.0498549634 * t);
-        X0 += 0.00000881459 * Math.cos(1.47222252626 + 209.106309744 * t);
-        X0 += 0.00000865067 * Math.cos(3.41432256973 + 217.491881132 * t);
-        X0 += 0.00000789282 * Math.cos(0.23960587227 + 223.5940361765 * t);
-        X0 += 0.00001007761 * Math.cos(1.08964371328 + 225.8292684102 * t);
-        X0 += 0.00000918433 * Math.cos(4.86149490085 + 565.1156877467 * t);
-        X0 += 0.00000731350 * Math.cos(5.90815395090 + 1265.5674786264 * t);
-        X0 += 0.00000859969 * Math.cos(3.70935438142 + 252.6559713532 * t);
-        X0 += 0.00000780935 * Math.cos(4.83859148457 + 728.762966531 * t);
-        X0 += 0.00000787944 * Math.cos(2.18484045281 + 88.865680217 * t);
-        X0 += 0.00000710327 * Math.cos(3.41709256412 + 417.0369633204 * t);
-        X0 += 0.00000718894 * Math.cos(1.95883016371 + 956.2891559706 * t);
-        X0 += 0.00000918525 * Math.cos(4.57697125213 + 563.6312150384 * t);
-        X0 += 0.00000798401 * Math.cos(2.01609257440 + 207.8824694666 * t);
-        X0 += 0.00000647073 * Math.cos(2.95872943804 + 99.1606209555 * t);
-        X0 += 0.00000708539 * Math.cos(0.91058417437 + 207.6700211455 * t);
-        X0 += 0.00000768432 * Math.cos(2.89648077129 + 218.7157214094 * t);
-        X0 += 0.00000692104 * Math.cos(3.97719114831 + 218.9281697305 * t);
-        X0 += 0.00000727485 * Math.cos(0.30850251852 + 1162.4747044078 * t);
-        X0 += 0.00000633567 * Math.cos(6.23245450174 + 70.8494453042 * t);
-        X0 += 0.00000613975 * Math.cos(2.45662208568 + 142.4496501338 * t);
-        X0 += 0.00000798605 * Math.cos(1.35392610026 + 22.0914005278 * t);
-        X0 += 0.00000833141 * Math.cos(2.96256457754 + 160.6088973985 * t);
-        X0 += 0.00000760670 * Math.cos(1.72547418591 + 21.3406410024 * t);
-        X0 += 0.00000624518 * Math.cos(2.79603428367 + 18.1592472647 * t);
-        X0 += 0.00000698288 * Math.cos(0.39606094967 + 62.2514255951 * t);
-        X0 += 0.00000599292 * Math.cos(3.85685062144 + 554.0699874828 * t);
-        X0 += 0.00000696752 * Math.cos(0.57191090814 + 124.433415221 * t);
-        X0 += 0.00000613225 * Math.cos(4.42187080646 + 217.964961884 * t);
-        X0 += 0.00000516082 * Math.cos(2.58929130314 + 408.4389436113 * t);
-        X0 += 0.00000581150 * Math.cos(2.07880434678 + 231.4583427027 * t);
-        X0 += 0.00000665581 * Math.cos(2.82434445437 + 425.1137181677 * t);
-        X0 += 0.00000513474 * Math.cos(0.39337122033 + 414.0680179038 * t);
-        X0 += 0.00000657131 * Math.cos(1.40194432916 + 65.2203710117 * t);
-        X0 += 0.00000493977 * Math.cos(0.34470358866 + 302.164775655 * t);
-        X0 += 0.00000503950 * Math.cos(6.20460558308 + 1258.4539316256 * t);
-        X0 += 0.00000530435 * Math.cos(2.53005245833 + 214.7835681463 * t);
-        X0 += 0.00000548712 * Math.cos(0.47707901323 + 208.633228992 * t);
-        X0 += 0.00000447477 * Math.cos(4.71542440428 + 203.0041546995 * t);
-        X0 += 0.00000446305 * Math.cos(4.74401934346 + 1788.1448967202 * t);
-        X0 += 0.00000465392 * Math.cos(5.40750083938 + 654.1243803156 * t);
-        X0 += 0.00000502185 * Math.cos(4.37004071521 + 251.4321310758 * t);
-        X0 += 0.00000448425 * Math.cos(1.35674392267 + 1589.0728952838 * t);
-        X0 += 0.00000517284 * Math.cos(2.16331838082 + 211.8146227297 * t);
-        X0 += 0.00000413563 * Math.cos(3.63586974301 + 148.0787244263 * t);
-        X0 += 0.00000399606 * Math.cos(3.23973258155 + 213.1872208534 * t);
-        X0 += 0.00000399606 * Math.cos(1.64957508001 + 213.4109700226 * t);
-        X0 += 0.00000384384 * Math.cos(5.65541518775 + 1581.959348283 * t);
-        X0 += 0.00000400290 * Math.cos(3.15876824938 + 404.5067903482 * t);
-        X0 += 0.00000395127 * Math.cos(0.08823789222 + 1478.8665740644 * t);
-        X0 += 0.00000350293 * Math.cos(5.00255705341 + 198.321241911 * t);
-        X0 += 0.00000464864 * Math.cos(3.54480854933 + 2001.4439921582 * t);
-        X0 += 0.00000351121 * Math.cos(5.86405155542 + 98.8999885246 * t);
-        X0 += 0.00000335788 * Math.cos(1.02993303771 + 213.5115437591 * t);
-        X0 += 0.00000335788 * Math.cos(3.85937462386 + 213.0866471169 * t);
-        X0 += 0.00000367643 * Math.cos(4.66054518863 + 114.1384744825 * t);
-        X0 += 0.00000367304 * Math.cos(5.88650282265 + 750.1036075334 * t);
-        X0 += 0.00000369772 * Math.cos(5.39924643016 + 151.0476698429 * t);
-        X0 += 0.00000318641 * Math.cos(5.70073398414 + 831.8557407496 * t);
-        X0 += 0.00000317269 * Math.cos(6.15399946707 + 228.276948965 * t);
-        X0 += 0.00000416098 * Math.cos(5.91051454266 + 191.2076949102 * t);
-        X0 += 0.00000319406 * Math.cos(0.72194326719 + 175.1660598002 * t);
-        X0 += 0.00000381531 * Math.cos(1.39616544631 + 312.1990839626 * t);
-        X0 += 0.00000382800 * Math.cos(2.56517911849 + 56.6223513026 * t);
-        X0 += 0.00000402465 * Math.cos(4.29571195670 + 177.8743727859 * t);
-        X0 += 0.00000337120 * Math.cos(2.96241883499 + 479.2883889155 * t);
-        X0 += 0.00000270298 * Math.cos(5.13892679265 + 635.9651330509 * t);
-        X0 += 0.00000268385 * Math.cos(4.75118314124 + 191.9584544356 * t);
-        X0 += 0.00000269380 * Math.cos(1.30301159795 + 278.5194664497 * t);
-        X0 += 0.00000268854 * Math.cos(5.66985306128 + 205.2223405907 * t);
-        X0 += 0.00000315241 * Math.cos(1.98234278819 + 106.2741679563 * t);
-        X0 += 0.00000269016 * Math.cos(2.15203921815 + 327.4375699205 * t);
-        X0 += 0.00000347502 * Math.cos(5.76861803456 + 195.1398481733 * t);
-        X0 += 0.00000347341 * Math.cos(0.61908132149 + 248.7238180901 * t);
-        X0 += 0.00000296359 * Math.cos(1.51933329331 + 10.2949407385 * t);
-        X0 += 0.00000280829 * Math.cos(3.77309922396 + 2.4476805548 * t);
-        X0 += 0.00000252470 * Math.cos(1.67539597791 + 213.5597278689 * t);
-        X0 += 0.00000252470 * Math.cos(3.21391208773 + 213.0384630071 * t);
-        X0 += 0.00000272972 * Math.cos(4.55564352170 + 1045.1548361876 * t);
-        X0 += 0.00000239800 * Math.cos(5.92731308060 + 1574.8458012822 * t);
-        X0 += 0.00000241206 * Math.cos(5.74905299531 + 221.3758502853 * t);
-        X0 += 0.00000224581 * Math.cos(1.93088202036 + 39.3568759152 * t);
-        X0 += 0.00000303332 * Math.cos(1.08981956452 + 483.2205421786 * t);
-        X0 += 0.00000292918 * Math.cos(3.86514080986 + 424.1505103212 * t);
-        X0 += 0.00000304839 * Math.cos(1.75379009485 + 6283.0758499914 * t);
-        X0 += 0.00000236937 * Math.cos(4.96032795425 + 235.3904959658 * t);
-        X0 += 0.00000211444 * Math.cos(0.02150963509 + 543.9180590962 * t);
-        X0 += 0.00000234092 * Math.cos(5.78186298869 + 275.5505210331 * t);
-        X0 += 0.00000204931 * Math.cos(4.46341699841 + 842.1506814881 * t);
-        X0 += 0.00000203518 * Math.cos(4.48361003131 + 2104.5367663768 * t);
-        X0 += 0.00000266641 * Math.cos(3.49646394105 + 121.2520214833 * t);
-        X0 += 0.00000230862 * Math.cos(4.03811269085 + 497.4476361802 * t);
-        X0 += 0.00000202640 * Math.cos(2.91715278214 + 284.1485407422 * t);
-        X0 += 0.00000192711 * Math.cos(5.33622790894 + 1898.3512179396 * t);
-        X0 += 0.00000217166 * Math.cos(6.14501268573 + 429.0458714308 * t);
-        X0 += 0.00000213986 * Math.cos(2.44871785704 + 8.0767548473 * t);
-        X0 += 0.00000212877 * Math.cos(0.67438396717 + 650.9429865779 * t);
-        X0 += 0.00000215232 * Math.cos(2.97872772544 + 425.6349830295 * t);
-        X0 += 0.00000236824 * Math.cos(3.57393052829 + 219.4494345923 * t);
-        X0 += 0.00000203264 * Math.cos(1.15942079115 + 1375.7737998458 * t);
-        X0 += 0.00000174574 * Math.cos(3.29077366662 + 426.6463749858 * t);
-        X0 += 0.00000218159 * Math.cos(1.64908016840 + 269.9214467406 * t);
-        X0 += 0.00000169471 * Math.cos(4.78021413557 + 501.3797894433 * t);
-        X0 += 0.00000174569 * Math.cos(0.09297884169 + 426.5500067662 * t);
-        X0 += 0.00000176368 * Math.cos(0.50228212449 + 618.5566453116 * t);
-        X0 += 0.00000163515 * Math.cos(0.76931838572 + 312.4597163935 * t);
-        X0 += 0.00000182548 * Math.cos(1.24685117319 + 210.5907824523 * t);
-        X0 += 0.00000170038 * Math.cos(6.21992022263 + 1795.258443721 * t);
-        X0 += 0.00000188022 * Math.cos(0.50637735109 + 427.5613987225 * t);
-        X0 += 0.00000179530 * Math.cos(3.64276719183 + 216.0074084237 * t);
-        X0 += 0.00000180882 * Math.cos(3.08082546788 + 84.3428261229 * t);
-        X0 += 0.00000166973 * Math.cos(4.32185770884 + 355.7487455718 * t);
-        X0 += 0.00000151676 * Math.cos(4.13754942735 + 213.4591541324 * t);
-        X0 += 0.00000151676 * Math.cos(0.75207673924 + 213.1390367436 * t);
-        X0 += 0.00000151432 * Math.cos(3.90513456730 + 220.4608265486 * t);
-        X0 += 0.00000194652 * Math.cos(5.26736778530 + 488.8496164711 * t);
-        X0 += 0.00000149055 * Math.cos(5.67257832801 + 107.0249274817 * t);
-        X0 += 0.00000191290 * Math.cos(3.29984174656 + 2317.8358618148 * t);
-        X0 += 0.00000166449 * Math.cos(3.40892440053 + 1279.794572628 * t);
-        X0 += 0.00000180790 * Math.cos(0.04936208794 + 491.8185618877 * t);
-        X0 += 0.00000188196 * Math.cos(1.34108074604 + 207.1487562837 * t);
-        X0 += 0.00000171504 * Math.cos(3.32007828165 + 73.297125859 * t);
-        X0 += 0.00000146618 * Math.cos(0.72929682140 + 220.364458329 * t);
-        X0 += 0.00000193237 * Math.cos(4.19968617237 + 188.9200730498 * t);
-        X0 += 0.00000137090 * Math.cos(5.42655130336 + 1148.2476104062 * t);
-        X0 += 0.00000146331 * Math.cos(6.12359043156 + 5.4166259714 * t);
-        X0 += 0.00000185616 * Math.cos(5.12367952113 + 601.7642506762 * t);
-        X0 += 0.00000158034 * Math.cos(3.42936876808 + 179.3588454942 * t);
-        X0 += 0.00000176989 * Math.cos(2.59441226782 + 344.7030453079 * t);
-        X0 += 0.00000159685 * Math.cos(5.53376678198 + 358.9301393095 * t);
-        X0 += 0.00000155790 * Math.cos(4.99237742083 + 289.5651667136 * t);
-        X0 += 0.00000138147 * Math.cos(3.19940941173 + 436.1594184316 * t);
-        X0 += 0.00000177192 * Math.cos(3.17596798012 + 10213.285546211 * t);
-        X0 += 0.00000125961 * Math.cos(3.35117964179 + 643.8294395771 * t);
-        X0 += 0.00000131798 * Math.cos(2.50083539634 + 212.0270710508 * t);
-        X0 += 0.00000139279 * Math.cos(2.71243130336 + 636.7158925763 * t);
-        X0 += 0.00000122329 * Math.cos(1.96650577886 + 69.1525242748 * t);
-        X0 += 0.00000130711 * Math.cos(2.38850746748 + 214.5711198252 * t);
-        X0 += 0.00000134225 * Math.cos(5.65869864230 + 4.665866446 * t);
-        X0 += 0.00000122431 * Math.cos(1.70605535564 + 621.7380390493 * t);
-        X0 += 0.00000116811 * Math.cos(1.61145832221 + 113.3877149571 * t);
-        X0 += 0.00000118860 * Math.cos(5.65033188726 + 1891.2376709388 * t);
-        X0 += 0.00000156141 * Math.cos(0.65756469165 + 237.6781178262 * t);
-        X0 += 0.00000111031 * Math.cos(1.01598464494 + 206.1373643274 * t);
-        X0 += 0.00000117765 * Math.cos(3.75859584496 + 32.2433289144 * t);
-        X0 += 0.00000129033 * Math.cos(1.46198971089 + 247.2393453818 * t);
-        X0 += 0.00000109102 * Math.cos(5.47152854194 + 114.3991069134 * t);
-        X0 += 0.00000108637 * Math.cos(1.81623475388 + 767.3690829208 * t);
-        X0 += 0.00000128773 * Math.cos(2.33422964044 + 78.7137518304 * t);
-        X0 += 0.00000105318 * Math.cos(5.22706552130 + 5.6290742925 * t);
-        X0 += 0.00000127653 * Math.cos(5.12749160961 + 134.5853436076 * t);
-        X0 += 0.00000126069 * Math.cos(4.37180806356 + 181.0557665236 * t);
-        X0 += 0.00000102853 * Math.cos(1.65813839227 + 67.6680515665 * t);
-        X0 += 0.00000133601 * Math.cos(2.75004967414 + 35.4247226521 * t);
-        X0 += 0.00000110253 * Math.cos(0.71569456242 + 245.5424243524 * t);
-        X0 += 0.00000105830 * Math.cos(1.45649128193 + 219.891377577 * t);
-        X0 += 0.00000106045 * Math.cos(4.18483284486 + 206.233732547 * t);
-        X0 += 0.00000098219 * Math.cos(0.44587854866 + 144.1465711632 * t);
-        X0 += 0.00000097708 * Math.cos(5.02834717765 + 2214.7430875962 * t);
-        X0 += 0.00000104371 * Math.cos(4.03317054662 + 1073.6090241908 * t);
-        X0 += 0.00000095113 * Math.cos(5.17002132247 + 643.0786800517 * t);
-        X0 += 0.00000099528 * Math.cos(1.42298075665 + 426.0769260142 * t);
-        X0 += 0.00000094974 * Math.cos(4.23060258384 + 2420.9286360334 * t);
-        X0 += 0.00000096530 * Math.cos(6.02923616094 + 447.9388318784 * t);
-        X0 += 0.00000103745 * Math.cos(4.30393732262 + 1361.5467058442 * t);
-        X0 += 0.00000118241 * Math.cos(2.14057046058 + 1272.6810256272 * t);
-        X0 += 0.00000088219 * Math.cos(0.05606869317 + 87.3117715395 * t);
-        X0 += 0.00000112266 * Math.cos(0.59751798783 + 1692.1656695024 * t);
-        X0 += 0.00000098975 * Math.cos(1.55639660933 + 4.192785694 * t);
-        X0 += 0.00000099944 * Math.cos(2.65997941012 + 14.977853527 * t);
-        X0 += 0.00000081885 * Math.cos(3.25181964362 + 20.6069278195 * t);
-        X0 += 0.00000091321 * Math.cos(1.93807762123 + 427.1194557378 * t);
-        X0 += 0.00000091949 * Math.cos(3.60460364421 + 206.706813299 * t);
-        X0 += 0.00000100403 * Math.cos(3.54166586397 + 140.001969579 * t);
-        X0 += 0.00000081777 * Math.cos(4.52519934508 + 525.4981794006 * t);
-        X0 += 0.00000079774 * Math.cos(4.83514091014 + 159.1244246902 * t);
-        X0 += 0.00000078549 * Math.cos(3.24815082664 + 14.0146456805 * t);
-        X0 += 0.00000081064 * Math.cos(0.27454326223 + 125.9873238985 * t);
-        X0 += 0.00000074887 * Math.cos(6.18244095483 + 420.9691165835 * t);
-        X0 += 0.00000083020 * Math.cos(4.23502848820 + 153.4953503977 * t);
-        X0 += 0.00000074336 * Math.cos(6.07238028864 + 2111.6503133776 * t);
-        X0 += 0.00000071695 * Math.cos(2.45500522999 + 630.3360587584 * t);
-        X0 += 0.00000077164 * Math.cos(0.90106050331 + 329.7251917809 * t);
-        X0 += 0.00000071328 * Math.cos(4.25726845306 + 0.9632078465 * t);
-        X0 += 0.00000069326 * Math.cos(5.97750450668 + 212.0752551606 * t);
-        X0 += 0.00000069326 * Math.cos(5.19530696709 + 214.5229357154 * t);
-        X0 += 0.00000076087 * Math.cos(0.34743859064 + 934.9485149682 * t);
-        X0 += 0.00000085500 * Math.cos(1.61924612074 + 54.1746707478 * t);
-        X0 += 0.00000081874 * Math.cos(1.59776394951 + 353.301065017 * t);
-        X0 += 0.00000091120 * Math.cos(3.81883197984 + 776.9303104764 * t);
-        X0 += 0.00000086236 * Math.cos(2.72678012092 + 916.9322800554 * t);
-        X0 += 0.00000074136 * Math.cos(4.03125002315 + 92.0470739547 * t);
-        X0 += 0.00000066131 * Math.cos(2.35964914519 + 423.6774295692 * t);
-        X0 += 0.00000071095 * Math.cos(6.18616583120 + 211.6021744086 * t);
-        X0 += 0.00000064837 * Math.cos(4.82949190154 + 6.1503391543 * t);
-        X0 += 0.00000064147 * Math.cos(5.15692606934 + 1464.6394800628 * t);
-        X0 += 0.00000064557 * Math.cos(0.28622924030 + 184.9879197867 * t);
-        X0 += 0.00000065853 * Math.cos(4.35139240808 + 339.2864193365 * t);
-        X0 += 0.00000080268 * Math.cos(3.06595567501 + 2634.2277314714 * t);
-        X0 += 0.00000062412 * Math.cos(6.02397194169 + 692.5874843535 * t);
-        X0 += 0.00000062748 * Math.cos(2.82059120751 + 2.9207613068 * t);
-        X0 += 0.00000073234 * Math.cos(1.42030136903 + 286.596221297 * t);
-        X0 += 0.00000065292 * Math.cos(5.67801345398 + 617.8058857862 * t);
-        X0 += 0.00000079482 * Math.cos(2.77610661994 + 347.8844390456 * t);
-        X0 += 0.00000070198 * Math.cos(0.02729113540 + 337.732510659 * t);
-        X0 += 0.00000059578 * Math.cos(4.68819841285 + 51.2057253312 * t);
-        X0 += 0.00000075802 * Math.cos(1.21580005948 + 46.470422916 * t);
-        X0 += 0.00000060050 * Math.cos(5.38312689496 + 2207.6295405954 * t);
-        X0 += 0.00000068653 * Math.cos(0.59467909972 + 273.1028404783 * t);
-        X0 += 0.00000058090 * Math.cos(3.78005458271 + 416.3032501375 * t);
-        X0 += 0.00000061437 * Math.cos(0.73813400987 + 182.279606801 * t);
-        X0 += 0.00000078912 * Math.cos(6.18705409637 + 299.1263942692 * t);
-        X0 += 0.00000063517 * Math.cos(2.40088368245 + 391.1734682239 * t);
-        X0 += 0.00000066015 * Math.cos(4.08036425037 + 778.4147831847 * t);
-        X0 += 0.00000066706 * Math.cos(2.56096004731 + 220.9339073006 * t);
-        X0 += 0.00000066535 * Math.cos(0.16025744557 + 696.5196376166 * t);
-        X0 += 0.00000055588 * Math.cos(1.58539917943 + 387.2413149608 * t);
-        X0 += 0.00000055245 * Math.cos(5.78088395279 + 436.8931316145 * t);
-        X0 += 0.00000054700 * Math.cos(4.54260230672 + 241.6102710893 * t);
-        X0 += 0.00000054842 * Math.cos(1.38489146108 + 518.6452648307 * t);
-        X0 += 0.00000059023 * Math.cos(4.97849167437 + 214.9960164674 * t);
-        X0 += 0.00000053989 * Math.cos(6.19050578729 + 627.3671133418 * t);
-        X0 += 0.00000068787 * Math.cos(3.41306604582 + 116.4260963429 * t);
-        X0 += 0.00000063336 * Math.cos(5.07934253747 + 576.1613880106 * t);
-        X0 += 0.00000054255 * Math.cos(6.09930467587 + 267.4737661858 * t);
-        X0 += 0.00000053639 * Math.cos(3.19637859214 + 128.9562693151 * t);
-        X0 += 0.00000052275 * Math.cos(1.93847849121 + 7.065362891 * t);
-        X0 += 0.00000055800 * Math.cos(1.92876335537 + 342.2553647531 * t);
-        X0 += 0.00000069651 * Math.cos(1.43400464282 + 24.3790223882 * t);
-        X0 += 0.00000056865 * Math.cos(1.30791772242 + 444.7574381407 * t);
-        X0 += 0.00000050883 * Math.cos(1.18776024585 + 31.019488637 * t);
-        X0 += 0.00000055380 * Math.cos(2.97518197987 + 59.8037450403 * t);
-        X0 += 0.00000050427 * Math.cos(5.15298120408 + 211.8628068395 * t);
-        X0 += 0.00000050427 * Math.cos(6.01983026969 + 214.7353840365 * t);
-        X0 += 0.00000057131 * Math.cos(3.96134363403 + 543.0242872189 * t);
-        X0 += 0.00000049871 * Math.cos(4.73074363594 + 2531.1349572528 * t);
-        X0 += 0.00000051909 * Math.cos(4.30240479689 + 192.6921676185 * t);
-        X0 += 0.00000063716 * Math.cos(5.76431815039 + 421.93232443 * t);
-        X0 += 0.00000047989 * Math.cos(0.27885843572 + 333.657345044 * t);
-        X0 += 0.00000060126 * Math.cos(0.33113202746 + 439.1283638482 * t);
-        X0 += 0.00000055585 * Math.cos(5.00242279476 + 221.1634019642 * t);
-        X0 += 0.00000047716 * Math.cos(0.39295661784 + 219.6618829134 * t);
-        X0 += 0.00000049622 * Math.cos(2.64477814311 + 430.79097657 * t);
-        X0 += 0.00000061092 * Math.cos(1.51397776988 + 305.3461693927 * t);
-        X0 += 0.00000048644 * Math.cos(3.16627935573 + 96.8729990951 * t);
-        X0 += 0.00000048710 * Math.cos(0.89401835270 + 429.5189521828 * t);
-        X0 += 0.00000046209 * Math.cos(6.11163535772 + 425.8474313506 * t);
-        X0 += 0.00000059861 * Math.cos(3.45284751930 + 487.3651437628 * t);
-        X0 += 0.00000046524 * Math.cos(4.14957170333 + 282.4516197128 * t);
-        X0 += 0.00000046921 * Math.cos(5.73141451894 + 292.0128472684 * t);
-        X0 += 0.00000059305 * Math.cos(0.81375446390 + 2.9689454166 * t);
-        X0 += 0.00000044465 * Math.cos(3.96656681803 + 2737.32050569 * t);
-        X0 += 0.00000047450 * Math.cos(3.08411595023 + 320.3240229197 * t);
-        X0 += 0.00000055031 * Math.cos(2.61684051897 + 418.5214360287 * t);
-        X0 += 0.00000055947 * Math.cos(2.08615281193 + 638.4128136057 * t);
-        X0 += 0.00000042668 * Math.cos(0.60521165065 + 421.1815649046 * t);
-        X0 += 0.00000047761 * Math.cos(1.51559446603 + 558.0021407459 * t);
-        X0 += 0.00000053261 * Math.cos(6.04292842982 + 205.4347889118 * t);
-        X0 += 0.00000051528 * Math.cos(5.02718280298 + 199.2844497575 * t);
-        X0 += 0.00000051282 * Math.cos(1.48346222089 + 1169.5882514086 * t);
-        X0 += 0.00000041663 * Math.cos(2.50545942767 + 120.358249606 * t);
-        X0 += 0.00000045564 * Math.cos(1.25214817820 + 274.0660483248 * t);
-        X0 += 0.00000048658 * Math.cos(5.15240257266 + 7.1617311106 * t);
-        X0 += 0.00000039341 * Math.cos(1.88905188285 + 458.8415197904 * t);
-        X0 += 0.00000053435 * Math.cos(4.49704581652 + 166.828672522 * t);
-        X0 += 0.00000045109 * Math.cos(6.06459133840 + 227.3137411185 * t);
-        X0 += 0.00000046355 * Math.cos(3.10853382452 + 432.2272651685 * t);
-        X0 += 0.00000038934 * Math.cos(2.45431347167 + 264.5048207692 * t);
-        X0 += 0.00000052100 * Math.cos(0.33510689831 + 2008.557539159 * t);
-        X0 += 0.00000045774 * Math.cos(2.33733624110 + 205.6642835754 * t);
-        X0 += 0.00000040966 * Math.cos(4.09903578988 + 1677.9385755008 * t);
-        X0 += 0.00000037133 * Math.cos(4.50828997358 + 206.9363079626 * t);
-        X0 += 0.00000036628 * Math.cos(3.66787324062 + 427.3489504014 * t);
-        X0 += 0.00000045029 * Math.cos(2.03211615844 + 428.0826635843 * t);
-        X0 += 0.00000038453 * Math.cos(5.99530036714 + 209.1544938538 * t);
-        X0 += 0.00000050144 * Math.cos(6.20960934954 + 3340.6124266998 * t);
-        X0 += 0.00000040436 * Math.cos(0.44978856734 + 233.9060232575 * t);
-        X0 += 0.00000036768 * Math.cos(1.91588498975 + 33.9402499438 * t);
-        X0 += 0.00000037471 * Math.cos(5.17760705488 + 217.4436970222 * t);
-        X0 += 0.00000044696 * Math.cos(3.38722991510 + 6.592282139 * t);
-        X0 += 0.00000046113 * Math.cos(4.05104625234 + 214.1928673153 * t);
-        X0 += 0.00000046113 * Math.cos(0.83857991425 + 212.4053235607 * t);
-        X0 += 0.00000037230 * Math.cos(1.57251793083 + 41.6444977756 * t);
-        X0 += 0.00000036077 * Math.cos(4.65554964728 + 867.4234757536 * t);
-        X0 += 0.00000037353 * Math.cos(0.06647848989 + 1251.3403846248 * t);
-        X0 += 0.00000033612 * Math.cos(1.68789904490 + 181.806526049 * t);
-        X0 += 0.00000033393 * Math.cos(5.90961230058 + 2428.0421830342 * t);
-        X0 += 0.00000042678 * Math.cos(3.87972225097 + 135.5485514541 * t);
-        X0 += 0.00000035511 * Math.cos(4.25887033106 + 244.318584075 * t);
-        X0 += 0.00000036698 * Math.cos(3.68604101993 + 431.264057322 * t);
-        X0 += 0.00000038628 * Math.cos(6.23909464278 + 145.6310438715 * t);
-        X0 += 0.00000038119 * Math.cos(6.03029510246 + 319.5732633943 * t);
-        X0 += 0.00000031092 * Math.cos(4.88763516295 + 1781.0313497194 * t);
-        X0 += 0.00000033486 * Math.cos(2.40982180111 + 28.3111756513 * t);
-        X0 += 0.00000032066 * Math.cos(3.33695513399 + 465.9550667912 * t);
-        X0 += 0.00000032931 * Math.cos(2.31448463560 + 81.7521332162 * t);
-        X0 += 0.00000039682 * Math.cos(0.04631095182 + 738.7972748386 * t);
-        X0 += 0.00000030271 * Math.cos(2.89789752283 + 411.620337349 * t);
-        X0 += 0.00000034546 * Math.cos(1.90052070252 + 77.7505439839 * t);
-        X0 += 0.00000039377 * Math.cos(2.19578979946 + 373.9079928365 * t);
-        X0 += 0.00000030492 * Math.cos(1.11695305824 + 280.9671470045 * t);
-        X0 += 0.00000030230 * Math.cos(5.10287010223 + 2524.021410252 * t);
-        X0 += 0.00000029377 * Math.cos(6.18727053498 + 131.5469622218 * t);
-        X0 += 0.00000028754 * Math.cos(0.15838275010 + 192.8522263129 * t);
-        X0 += 0.00000035400 * Math.cos(2.84750024165 + 381.3516082374 * t);
-        X0 += 0.00000028049 * Math.cos(2.30566407507 + 131.4039498699 * t);
-        X0 += 0.00000033973 * Math.cos(2.82785995951 + 2950.619601128 * t);
-        X0 += 0.00000035075 * Math.cos(0.26666716101 + 23.5758732361 * t);
-        X0 += 0.00000027325 * Math.cos(0.85706476637 + 60.7669528868 * t);
-        X0 += 0.00000037615 * Math.cos(0.10667439867 + 480.7728616238 * t);
-        X0 += 0.00000027836 * Math.cos(1.17681685755 + 216.2680408546 * t);
-        X0 += 0.00000035021 * Math.cos(1.11524546879 + 39.6175083461 * t);
-        X0 += 0.00000029306 * Math.cos(3.55420811269 + 464.7312265138 * t);
-        X0 += 0.00000027047 * Math.cos(2.92543208325 + 361.3778198643 * t);
-        X0 += 0.00000026548 * Math.cos(1.60414548715 + 405.9912630565 * t);
-        X0 += 0.00000033781 * Math.cos(1.31739552237 + 756.3233826569 * t);
-        X0 += 0.00000033625 * Math.cos(5.77835881759 + 395.578702239 * t);
-        X0 += 0.00000026346 * Math.cos(3.73692388891 + 0.5212648618 * t);
-        X0 += 0.00000026332 * Math.cos(4.82433091330 + 16.6747745564 * t);
-        X0 += 0.00000031111 * Math.cos(1.40241336085 + 0.7507595254 * t);
-        X0 += 0.00000029988 * Math.cos(3.32282928396 + 710.7467316182 * t);
-        X0 += 0.00000025913 * Math.cos(3.24693597232 + 244.791664827 * t);
-        X0 += 0.00000031019 * Math.cos(2.96059209588 + 129.9194771616 * t);
-        X0 += 0.00000025546 * Math.cos(1.68817201260 + 412.5835451955 * t);
-        X0 += 0.00000025306 * Math.cos(4.73124302501 + 233.7459645631 * t);
-        X0 += 0.00000033248 * Math.cos(1.88178595513 + 162.0933701068 * t);
-        X0 += 0.00000025984 * Math.cos(0.44763976287 + 494.2662424425 * t);
-        X0 += 0.00000026319 * Math.cos(3.57855185452 + 210.3301500214 * t);
-        X0 += 0.00000034122 * Math.cos(0.40144235206 + 259.769518354 * t);
-        X0 += 0.00000024741 * Math.cos(4.44519463302 + 2847.5268269094 * t);
-        X0 += 0.00000030345 * Math.cos(1.26034026411 + 454.9093665273 * t);
-        X0 += 0.00000026274 * Math.cos(0.63012531277 + 45.5766510387 * t);
-        X0 += 0.00000026934 * Math.cos(5.50960011212 + 254.9435932136 * t);
-        X0 += 0.00000033480 * Math.cos(2.30014654686 + 27.0873353739 * t);
-        X0 += 0.00000027190 * Math.cos(5.04012848689 + 214.9436268407 * t);
-        X0 += 0.00000027190 * Math.cos(6.13268298688 + 211.6545640353 * t);
-        X0 += 0.00000024828 * Math.cos(0.02332913583 + 508.3503240922 * t);
-        X0 += 0.00000025542 * Math.cos(5.77362891558 + 681.5417840896 * t);
-        X0 += 0.00000025645 * Math.cos(3.86292605935 + 229.9738699944 * t);
-        X0 += 0.00000023511 * Math.cos(0.40578451478 + 212.4959462859 * t);
-        X0 += 0.00000023511 * Math.cos(4.48384165181 + 214.1022445901 * t);
-        X0 += 0.00000028445 * Math.cos(0.24754383167 + 533.6231183577 * t);
-        X0 += 0.00000024389 * Math.cos(1.47701184444 + 422.405405182 * t);
-        X0 += 0.00000024170 * Math.cos(5.58810925505 + 184.7272873558 * t);
-        X0 += 0.00000024192 * Math.cos(0.34568002889 + 420.4478517217 * t);
-        X0 += 0.00000024075 * Math.cos(4.67936877608 + 258.8757464767 * t);
-        X0 += 0.00000022198 * Math.cos(2.48883901199 + 426.4863162914 * t);
-        X0 += 0.00000027330 * Math.cos(0.04563973084 + 36.6485629295 * t);
-        X0 += 0.00000023225 * Math.cos(1.32324393739 + 207.0793203145 * t);
-        X0 += 0.00000021570 * Math.cos(3.20671772166 + 224.6054281328 * t);
-        X0 += 0.00000021557 * Math.cos(2.60337999064 + 432.0148168474 * t);
-        X0 += 0.00000022198 * Math.cos(0.89868151046 + 426.7100654606 * t);
-        X0 += 0.00000022194 * Math.cos(3.11585618869 + 313.2104759189 * t);
-        X0 += 0.00000022951 * Math.cos(4.15499253822 + 92.940845832 * t);
-        X0 += 0.00000022696 * Math.cos(1.52974836022 + 223.3334037456 * t);
-        X0 += 0.00000020721 * Math.cos(4.42613798459 + 849.2642284889 * t);
-        X0 += 0.00000022399 * Math.cos(3.56419461003 + 219.5188705615 * t);
-        X0 += 0.00000020538 * Math.cos(3.12930889350 + 106.0135355254 * t);
-        X0 += 0.00000020697 * Math.cos(3.65641936807 + 7.6348118626 * t);
-        X0 += 0.00000023953 * Math.cos(2.54227282881 + 334.5511169213 * t);
-        X0 += 0.00000020615 * Math.cos(1.83896929075 + 2118.7638603784 * t);
-        X0 += 0.00000020119 * Math.cos(2.85963323081 + 357.4456666012 * t);
-        X0 += 0.00000020403 * Math.cos(5.22785233718 + 162.8965192589 * t);
-        X0 += 0.00000020124 * Math.cos(3.71792305311 + 3053.7123753466 * t);
-        X0 += 0.00000021218 * Math.cos(5.34320407656 + 99.9113804809 * t);
-        X0 += 0.00000021047 * Math.cos(5.57803326341 + 241.8709035202 * t);
-        X0 += 0.00000023221 * Math.cos(1.41165777818 + 731.9443602687 * t);
-        X0 += 0.00000023031 * Math.cos(0.00293839313 + 66.70484372 * t);
-        X0 += 0.00000022078 * Math.cos(3.53916297934 + 186.2117600641 * t);
-        X0 += 0.00000023601 * Math.cos(1.54425445590 + 556.5176680376 * t);
-        X0 += 0.00000024674 * Math.cos(4.23392667934 + 46.2097904851 * t);
-        X0 += 0.00000021263 * Math.cos(2.38214401101 + 343.2185725996 * t);
-        X0 += 0.00000018919 * Math.cos(5.02923982401 + 171.6545976624 * t);
-        X0 += 0.00000018653 * Math.cos(0.27903946815 + 426.8106391971 * t);
-        X0 += 0.00000018677 * Math.cos(1.33905018859 + 835.0371344873 * t);
-        X0 += 0.00000018653 * Math.cos(3.10848105430 + 426.3857425549 * t);
-        X0 += 0.00000019650 * Math.cos(3.14857774310 + 561.1835344836 * t);
-        X0 += 0.00000019470 * Math.cos(1.81622677733 + 468.2426886516 * t);
-        X0 += 0.00000022709 * Math.cos(0.14922934569 + 450.9772132642 * t);
-        X0 += 0.00000019428 * Math.cos(2.06974323240 + 392.6579409322 * t);
-        X0 += 0.00000019902 * Math.cos(6.07671268686 + 1567.7322542814 * t);
-        X0 += 0.00000023255 * Math.cos(6.12070200866 + 593.426863398 * t);
-        X0 += 0.00000020562 * Math.cos(5.24399527975 + 963.4027029714 * t);
-        X0 += 0.00000024128 * Math.cos(4.61360879470 + 31.492569389 * t);
-        X0 += 0.00000023733 * Math.cos(6.07696637504 + 462.0229135281 * t);
-        X0 += 0.00000020367 * Math.cos(1.15827997539 + 112.6540017742 * t);
-        X0 += 0.00000021022 * Math.cos(3.71064053048 + 402.2191684878 * t);
-        X0 += 0.00000017689 * Math.cos(0.34857150254 + 295.0512286542 * t);
-        X0 += 0.00000024555 * Math.cos(0.10872457907 + 2324.9494088156 * t);
-        X0 += 0.00000017958 * Math.cos(4.21869125792 + 403.0223176399 * t);
-        X0 += 0.00000019076 * Math.cos(3.31363778751 + 905.8865797915 * t);
-        X0 += 0.00000024254 * Math.cos(4.15960622971 + 141.2258098564 * t);
-        X0 += 0.00000017651 * Math.cos(6.25482504132 + 460.5384408198 * t);
-        X0 += 0.00000017119 * Math.cos(4.62226835420 + 146.594251718 * t);
-        X0 += 0.00000018901 * Math.cos(4.70800912908 + 572.2292347475 * t);
-        X0 += 0.00000018099 * Math.cos(6.25077093682 + 230.7075831773 * t);
-        X0 += 0.00000019787 * Math.cos(4.92505641767 + 552.5855147745 * t);
-        X0 += 0.00000016907 * Math.cos(0.03083675014 + 77.962992305 * t);
-        X0 += 0.00000016962 * Math.cos(1.45723127384 + 555.5544601911 * t);
-        X0 += 0.00000020486 * Math.cos(3.29967422946 + 156.6767441354 * t);
-        X0 += 0.00000018705 * Math.cos(4.27723304234 + 152.5321425512 * t);
-        X0 += 0.00000018078 * Math.cos(3.60998206545 + 405.2575498736 * t);
-        X0 += 0.00000020830 * Math.cos(3.23444171494 + 175.4266922311 * t);
-        X0 += 0.00000017268 * Math.cos(6.09632521803 + 199.9657733137 * t);
-        X0 += 0.00000017269 * Math.cos(5.27738844677 + 295.1942410061 * t);
-        X0 += 0.00000022334 * Math.cos(4.06244344780 + 423.6292454594 * t);
-        X0 += 0.00000016403 * Math.cos(3.22117020453 + 419.532827985 * t);
-        X0 += 0.00000016425 * Math.cos(5.61380266494 + 757.2171545342 * t);
-        X0 += 0.00000016222 * Math.cos(5.73913129525 + 2744.4340526908 * t);
-        X0 += 0.00000016318 * Math.cos(5.86017105828 + 263.7016716171 * t);
-        X0 += 0.00000016071 * Math.cos(4.64386469650 + 2097.423219376 * t);
-        X0 += 0.00000021494 * Math.cos(3.37089967271 + 206.3979967583 * t);
-        X0 += 0.00000017985 * Math.cos(1.33230556245 + 240.3864308119 * t);
-        X0 += 0.00000016443 * Math.cos(5.05892064304 + 226.6324175623 * t);
-        X0 += 0.00000016375 * Math.cos(3.94799955623 + 1994.3304451574 * t);
-        X0 += 0.00000018316 * Math.cos(5.55182171088 + 100.3844612329 * t);
-        X0 += 0.00000016934 * Math.cos(4.98862886836 + 109.2431133729 * t);
-        X0 += 0.00000015567 * Math.cos(3.11397734583 + 220.3007678542 * t);
-        X0 += 0.00000015886 * Math.cos(4.82943615088 + 2840.4132799086 * t);
-        X0 += 0.00000016153 * Math.cos(6.02134998110 + 41.0537969446 * t);
-        X0 += 0.00000015648 * Math.cos(3.13768268695 + 211.2933578679 * t);
-        X0 += 0.00000015648 * Math.cos(1.75194347964 + 215.3048330081 * t);
-        X0 += 0.00000018382 * Math.cos(1.75927606668 + 220.2001941177 * t);
-        X0 += 0.00000015800 * Math.cos(0.05620231243 + 419.4364597654 * t);
-        X0 += 0.00000018947 * Math.cos(3.07280247332 + 637.4496057592 * t);
-        X0 += 0.00000017585 * Math.cos(0.64170468841 + 546.956440482 * t);
-        X0 += 0.00000020541 * Math.cos(0.76737119207 + 285.3723810196 * t);
-        X0 += 0.00000016595 * Math.cos(4.77020496205 + 364.3467652809 * t);
-        X0 += 0.00000020842 * Math.cos(5.73713006436 + 107.7586406646 * t);
-        X0 += 0.00000017326 * Math.cos(2.91677167276 + 199.8057146193 * t);
-        X0 += 0.00000016807 * Math.cos(2.19119081420 + 172.4577468145 * t);
-        X0 += 0.00000016383 * Math.cos(2.67389241000 + 203.8979265768 * t);
-        X0 += 0.00000014742 * Math.cos(3.77772931637 + 1055.4497769261 * t);
-        X0 += 0.00000018055 * Math.cos(0.56501731997 + 189.7232222019 * t);
-        X0 += 0.00000014484 * Math.cos(2.14147641596 + 110.1581371096 * t);
-        X0 += 0.00000014822 * Math.cos(1.69517551415 + 195.7729876197 * t);
-        X0 += 0.00000019924 * Math.cos(2.99837598349 + 72.0732855816 * t);
-        X0 += 0.00000016187 * Math.cos(0.43883421950 + 409.9234163196 * t);
-        X0 += 0.00000014080 * Math.cos(0.77300407988 + 13.3333221243 * t);
-        X0 += 0.00000015462 * Math.cos(2.21494315347 + 222.7002642992 * t);
-        X0 += 0.00000014446 * Math.cos(6.00416843077 + 457.617679513 * t);
-        X0 += 0.00000014016 * Math.cos(0.92450223186 + 426.8588233069 * t);
-        X0 += 0.00000015063 * Math.cos(5.74506051757 + 441.576044403 * t);
-        X0 += 0.00000017882 * Math.cos(4.37204429644 + 82.8583534146 * t);
-        X0 += 0.00000015737 * Math.cos(0.46442774752 + 525.7588118315 * t);
-        X0 += 0.00000014016 * Math.cos(2.46301834168 + 426.3375584451 * t);
-        X0 += 0.00000015926 * Math.cos(1.97285432336 + 226.7924762567 * t);
-        X0 += 0.00000015979 * Math.cos(0.88810024478 + 831.1049812242 * t);
-        X0 += 0.00000015755 * Math.cos(2.98800853174 + 348.8476468921 * t);
-        X0 += 0.00000015012 * Math.cos(1.52188645554 + 220.5245170234 * t);
-        X0 += 0.00000015689 * Math.cos(0.75909996739 + 100.6450936638 * t);
-        X0 += 0.00000014376 * Math.cos(4.16549809702 + 448.6895914038 * t);
-        X0 += 0.00000017752 * Math.cos(4.58997108869 + 702.1487119091 * t);
-        X0 += 0.00000014393 * Math.cos(5.33813724334 + 110.2545053292 * t);
-        X0 += 0.00000015863 * Math.cos(4.36354784669 + 570.7447620392 * t);
-        X0 += 0.00000015270 * Math.cos(2.66501523650 + 81.8951455681 * t);
-        X0 += 0.00000014810 * Math.cos(1.68960262833 + 540.7366653585 * t);
-        X0 += 0.00000014819 * Math.cos(0.92519710715 + 980.6681783588 * t);
-        X0 += 0.00000015970 * Math.cos(2.37623315151 + 111.1695290659 * t);
-        X0 += 0.00000016413 * Math.cos(2.75370430496 + 221.8971151471 * t);
-        X0 += 0.00000014952 * Math.cos(1.90324601287 + 420.005908737 * t);
-        X0 += 0.00000017749 * Math.cos(0.06240871500 + 569.0478410098 * t);
-        X0 += 0.00000013830 * Math.cos(5.00214404734 + 434.6749457233 * t);
-        X0 += 0.00000018335 * Math.cos(6.24789947973 + 170.0100662597 * t);
-        X0 += 0.00000013407 * Math.cos(3.18967410776 + 230.8252032563 * t);
-        X0 += 0.00000013221 * Math.cos(2.15403040580 + 1905.4647649404 * t);
-        X0 += 0.00000013229 * Math.cos(2.37572987670 + 1485.9801210652 * t);
-        X0 += 0.00000012978 * Math.cos(0.29727985191 + 241.7532834412 * t);
-        X0 += 0.00000017355 * Math.cos(2.46418652977 + 50.4025761791 * t);
-        X0 += 0.00000012667 * Math.cos(4.19939097474 + 3163.918696566 * t);
-        X0 += 0.00000015794 * Math.cos(1.66436074053 + 251.1714986449 * t);
-        X0 += 0.00000013957 * Math.cos(6.17562483736 + 864.2420820159 * t);
-        X0 += 0.00000012407 * Math.cos(4.03761061188 + 97.6761482472 * t);
-        X0 += 0.00000016053 * Math.cos(1.07509305355 + 28.5718080822 * t);
-        X0 += 0.00000016676 * Math.cos(5.57843223379 + 705.1176573257 * t);
-        X0 += 0.00000014368 * Math.cos(2.60363106205 + 3267.0114707846 * t);
-        X0 += 0.00000012578 * Math.cos(1.88265912656 + 238.5718897035 * t);
-        X0 += 0.00000012271 * Math.cos(0.48456399700 + 326.6868103951 * t);
-        X0 += 0.00000012803 * Math.cos(5.56819639491 + 642.3449668688 * t);
-        X0 += 0.00000013216 * Math.cos(4.23672824399 + 188.1693135244 * t);
-        X0 += 0.00000014257 * Math.cos(5.84367416401 + 42.5382696529 * t);
-        X0 += 0.00000011400 * Math.cos(5.32924504172 + 119.767548775 * t);
-        X0 += 0.00000011397 * Math.cos(0.34981755484 + 280.003939158 * t);
-        X0 += 0.00000011206 * Math.cos(4.12141164216 + 714.6788848813 * t);
-        X0 += 0.00000014434 * Math.cos(3.77669276223 + 386.9806825299 * t);
-        X0 += 0.00000012125 * Math.cos(4.11500887274 + 380.12776796 * t);
-        X0 += 0.00000015174 * Math.cos(4.95078632158 + 256.5881246163 * t);
-        X0 += 0.00000012006 * Math.cos(4.20703749198 + 196.6243208816 * t);
-        X0 += 0.00000011891 * Math.cos(3.36850071201 + 203.2647871304 * t);
-        X0 += 0.00000012003 * Math.cos(2.72468835291 + 254.1404440615 * t);
-        X0 += 0.00000010842 * Math.cos(2.54339582028 + 639.9454704238 * t);
-        X0 += 0.00000013350 * Math.cos(2.22655107118 + 638.9340784675 * t);
-        X0 += 0.00000014697 * Math.cos(2.83603068369 + 432.7485300303 * t);
-        X0 += 0.00000013429 * Math.cos(0.66730550149 + 193.655375465 * t);
-        X0 += 0.00000013740 * Math.cos(4.38243231529 + 815.0633461142 * t);
-        X0 += 0.00000012853 * Math.cos(0.91490823925 + 196.0336200506 * t);
-        X0 += 0.00000010721 * Math.cos(5.00859360369 + 17.5261078183 * t);
-        X0 += 0.00000010504 * Math.cos(1.77592937092 + 206.2974230218 * t);
-        X0 += 0.00000010384 * Math.cos(0.04028185137 + 196.8367692027 * t);
-        X0 += 0.00000010335 * Math.cos(1.81611161190 + 201.9927627432 * t);
-        X0 += 0.00000010842 * Math.cos(5.62879282141 + 639.8491022042 * t);
-        X0 += 0.00000012326 * Math.cos(4.01034471107 + 230.5645708254 * t);
-        X0 += 0.00000010302 * Math.cos(2.59865864262 + 107.2855599126 * t);
-        X0 += 0.00000010608 * Math.cos(4.61155696629 + 19.1224551112 * t);
-        X0 += 0.00000013774 * Math.cos(3.98241715793 + 477.8039162072 * t);
-        X0 += 0.00000010048 * Math.cos(3.46209492470 + 3370.1042450032 * t);
-        X0 += 0.00000010426 * Math.cos(1.21400645579 + 820.0592809603 * t);
-        X0 += 0.00000010793 * Math.cos(5.79737452042 + 1884.124123938 * t);
-        X0 += 0.00000013532 * Math.cos(5.23323144371 + 662.531203563 * t);
-        X0 += 0.00000009858 * Math.cos(3.35812510249 + 33.1371007917 * t);
-        X0 += 0.00000009653 * Math.cos(3.80389938231 + 406.954470903 * t);
-        X0 += 0.00000011049 * Math.cos(0.15327881480 + 397.3932433474 * t);
-        X0 += 0.00000010104 * Math.cos(0.97178466245 + 69.3649725959 * t);
-        X0 += 0.00000009594 * Math.cos(3.20545283826 + 433.7599219866 * t);
-        X0 += 0.00000010907 * Math.cos(6.07476458112 + 186.472392495 * t);
-        X0 += 0.00000009581 * Math.cos(3.81967849278 + 606.7601855223 * t);
-        X0 += 0.00000009652 * Math.cos(2.94034681034 + 194.1766403268 * t);
-        X0 += 0.00000009731 * Math.cos(1.95368842012 + 72.3339180125 * t);
-        X0 += 0.00000011233 * Math.cos(6.08951773665 + 640.8604941605 * t);
-        X0 += 0.00000009546 * Math.cos(2.32156584631 + 219.1406180516 * t);
-        X0 += 0.00000009885 * Math.cos(2.70541891569 + 47.6942631934 * t);
-        X0 += 0.00000009370 * Math.cos(4.84934406834 + 229.7614216733 * t);
-        X0 += 0.00000009841 * Math.cos(2.58842093829 + 135.336103133 * t);
-        X0 += 0.00000010975 * Math.cos(0.55243138426 + 395.105621487 * t);
-        X0 += 0.00000009735 * Math.cos(0.01733432515 + 433.663553767 * t);
-        X0 += 0.00000009302 * Math.cos(1.37432249732 + 143.9341228421 * t);
-        X0 += 0.00000010066 * Math.cos(0.49580184666 + 423.8898778903 * t);
-        X0 += 0.00000012472 * Math.cos(3.08381939221 + 894.8408795276 * t);
-        X0 += 0.00000010470 * Math.cos(5.05300759668 + 240.125798381 * t);
-        X0 += 0.00000008952 * Math.cos(0.28590238267 + 140.9651774255 * t);
-        X0 += 0.00000011046 * Math.cos(0.24713547849 + 526.5095713569 * t);
-        X0 += 0.00000009711 * Math.cos(2.61829855861 + 1493.093668066 * t);
-        X0 += 0.00000011290 * Math.cos(4.81810471700 + 389.9496279465 * t);
-        X0 += 0.00000008911 * Math.cos(1.34026355170 + 19.643719973 * t);
-        X0 += 0.00000009106 * Math.cos(0.77871223073 + 238.4288773516 * t);
-        X0 += 0.00000008732 * Math.cos(6.24118636509 + 157.6399519819 * t);
-        X0 += 0.00000010066 * Math.cos(2.89171872688 + 429.3065038617 * t);
-        X0 += 0.00000009374 * Math.cos(3.36841689456 + 206.0736738526 * t);
-        X0 += 0.00000009534 * Math.cos(3.86185711327 + 236.8749686741 * t);
-        X0 += 0.00000008635 * Math.cos(5.93764298518 + 824.7421937488 * t);
-        X0 += 0.00000008477 * Math.cos(5.54021575940 + 3060.8259223474 * t);
-        X0 += 0.00000008433 * Math.cos(3.38649663082 + 426.7582495704 * t);
-        X0 += 0.00000011180 * Math.cos(6.17848017138 + 2641.3412784722 * t);
-        X0 += 0.00000008433 * Math.cos(0.00102394272 + 426.4381321816 * t);
-        X0 += 0.00000008439 * Math.cos(4.51500392041 + 511.5317178299 * t);
-        X0 += 0.00000009394 * Math.cos(1.85342014381 + 319.3126309634 * t);
-        X0 += 0.00000008532 * Math.cos(4.57615248884 + 3156.8051495652 * t);
-        X0 += 0.00000008903 * Math.cos(2.43701935611 + 649.4585138696 * t);
-        X0 += 0.00000008389 * Math.cos(1.87155821133 + 232.4215505492 * t);
-        X0 += 0.00000008246 * Math.cos(2.28451141169 + 194.3890886479 * t);
-        X0 += 0.00000008317 * Math.cos(5.27911046499 + 661.2379273164 * t);
-        X0 += 0.00000009682 * Math.cos(6.11176107000 + 472.1748419147 * t);
-        X0 += 0.00000011219 * Math.cos(0.89544366061 + 453.6855262499 * t);
-        X0 += 0.00000008411 * Math.cos(0.52495950363 + 172.2452984934 * t);
-        X0 += 0.00000008981 * Math.cos(0.94573569495 + 187.4356003415 * t);
-        X0 += 0.00000008032 * Math.cos(4.50603721871 + 89.7594520943 * t);
-        X0 += 0.00000008092 * Math.cos(1.12531278179 + 672.1406152284 * t);
-        X0 += 0.00000007874 * Math.cos(4.38115777683 + 2413.8150890326 * t);
-        X0 += 0.00000007978 * Math.cos(3.25270512193 + 394.3548619616 * t);
-        X0 += 0.00000009111 * Math.cos(5.92051630827 + 167.7224443993 * t);
-        X0 += 0.00000009885 * Math.cos(4.36674104280 + 29.2049475286 * t);
-        X0 += 0.00000007695 * Math.cos(2.58075308553 + 207.4575728244 * t);
-        X0 += 0.00000007999 * Math.cos(5.76892383066 + 255.8373650909 * t);
-        X0 += 0.00000007801 * Math.cos(1.80697060453 + 2221.856634597 * t);
-        X0 += 0.00000009820 * Math.cos(1.99240441120 + 354.5249052944 * t);
-        X0 += 0.00000010355 * Math.cos(2.02047870385 + 204.7010757289 * t);
-        X0 += 0.00000009161 * Math.cos(1.80605471881 + 594.6507036754 * t);
-        X0 += 0.00000007700 * Math.cos(2.75501595675 + 857.1285350151 * t);
-        X0 += 0.00000008422 * Math.cos(4.22541294301 + 502.8642621516 * t);
-        X0 += 0.00000009659 * Math.cos(0.66282222487 + 380.3884003909 * t);
-        X0 += 0.00000008964 * Math.cos(4.60259246787 + 739.8086667949 * t);
-        X0 += 0.00000009469 * Math.cos(5.95763294539 + 495.7507151508 * t);
-        X0 += 0.00000007922 * Math.cos(0.32197020343 + 176.6505325085 * t);
-        X0 += 0.00000009441 * Math.cos(6.09271231832 + 418.0001711669 * t);
-        X0 += 0.00000007327 * Math.cos(2.60511441650 + 232.2091022281 * t);
-        X0 += 0.00000007299 * Math.cos(1.29758813796 + 366.7944458357 * t);
-        X0 += 0.00000008713 * Math.cos(0.77367091578 + 393.4610900843 * t);
-        X0 += 0.00000007151 * Math.cos(5.97877847903 + 313.6835566709 * t);
-        X0 += 0.00000007097 * Math.cos(3.86634603871 + 2310.722314814 * t);
-        X0 += 0.00000007690 * Math.cos(3.91283672076 + 239.1625905345 * t);
-        X0 += 0.00000007054 * Math.cos(6.11435542975 + 384.0599212231 * t);
-        X0 += 0.00000007298 * Math.cos(1.74992346676 + 425.3261664888 * t);
-        X0 += 0.00000009178 * Math.cos(2.49021644042 + 562.1467423301 * t);
-        X0 += 0.00000008400 * Math.cos(1.51695998773 + 28.4541880032 * t);
-        X0 += 0.00000009119 * Math.cos(6.14182901200 + 112.9146342051 * t);
-        X0 += 0.00000007018 * Math.cos(2.37418304281 + 291.262087743 * t);
-        X0 += 0.00000008083 * Math.cos(1.54726535769 + 619.2903584945 * t);
-        X0 += 0.00000007119 * Math.cos(4.29731211712 + 325.9530972122 * t);
-        X0 += 0.00000007298 * Math.cos(1.63759710678 + 427.8702152632 * t);
-        X0 += 0.00000008072 * Math.cos(3.32529933927 + 724.8308132679 * t);
-        X0 += 0.00000007741 * Math.cos(0.76022179542 + 84.9335269539 * t);
-        X0 += 0.00000006935 * Math.cos(3.25946627477 + 1286.9081196288 * t);
-        X0 += 0.00000006633 * Math.cos(4.94232868304 + 268.9582388941 * t);
-        X0 += 0.00000008880 * Math.cos(3.02316114149 + 190.4045457581 * t);
-        X0 += 0.00000006821 * Math.cos(3.22173264763 + 449.232108125 * t);
-        X0 += 0.00000008020 * Math.cos(2.83765342663 + 184.0941479094 * t);
-        X0 += 0.00000007759 * Math.cos(0.59545004290 + 343.7398374614 * t);
-        X0 += 0.00000006349 * Math.cos(4.28763974443 + 313.9441891018 * t);
-        X0 += 0.00000006598 * Math.cos(1.23499026160 + 88.1149206916 * t);
-        X0 += 0.00000007453 * Math.cos(2.14642578463 + 128.3655684841 * t);
-        X0 += 0.00000006299 * Math.cos(3.53707343862 + 180.1619946463 * t);
-        X0 += 0.00000006291 * Math.cos(1.49724070505 + 117.9105690512 * t);
-        X0 += 0.00000006901 * Math.cos(4.51033589337 + 249.9476583675 * t);
-        X0 += 0.00000006082 * Math.cos(3.98547423322 + 3480.3105662226 * t);
-        X0 += 0.00000007570 * Math.cos(3.02872932452 + 990.2294059144 * t);
-        X0 += 0.00000007221 * Math.cos(3.65873711017 + 25.6028626656 * t);
-        X0 += 0.00000006057 * Math.cos(4.42905421891 + 856.3777754897 * t);
-        X0 += 0.00000007434 * Math.cos(4.00728594079 + 25.1297819136 * t);
-        X0 += 0.00000006039 * Math.cos(0.10556534688 + 505.3119427064 * t);
-        X0 += 0.00000007951 * Math.cos(1.45628295823 + 105.5404547734 * t);
-        X0 += 0.00000006123 * Math.cos(1.05416533583 + 328.9220426288 * t);
-        X0 += 0.00000007410 * Math.cos(2.80785687723 + 1802.3719907218 * t);
-        X0 += 0.00000006330 * Math.cos(3.88531739474 + 110.7275860812 * t);
-        X0 += 0.00000006147 * Math.cos(0.67579092414 + 639.3760214522 * t);
-        X0 += 0.00000005898 * Math.cos(1.62352162391 + 843.6351541964 * t);
-        X0 += 0.00000006028 * Math.cos(3.32686859305 + 115.6229471908 * t);
-        X0 += 0.00000006743 * Math.cos(1.58035790221 + 418.9633790134 * t);
-        X0 += 0.00000006188 * Math.cos(0.49567067980 + 739.0579072695 * t);
-        X0 += 0.00000005894 * Math.cos(6.06611517396 + 120.9913890524 * t);
-        X0 += 0.00000006621 * Math.cos(5.03610613312 + 95.3885263868 * t);
-        X0 += 0.00000006841 * Math.cos(2.32904410339 + 141.4864422873 * t);
-        X0 += 0.00000005992 * Math.cos(0.19285412187 + 336.8387387817 * t);
-        X0 += 0.00000007883 * Math.cos(1.86032213862 + 236.1936451179 * t);
-        X0 += 0.00000007177 * Math.cos(5.81806997737 + 909.8187330546 * t);
-        X0 += 0.00000005661 * Math.cos(2.58262833641 + 123.5396433437 * t);
-        X0 += 0.00000005819 * Math.cos(0.09149815737 + 215.9592243139 * t);
-        X0 += 0.00000005819 * Math.cos(4.79812800922 + 210.6389665621 * t);
-        X0 += 0.00000006190 * Math.cos(3.38729700678 + 109.6850563576 * t);
-        X0 += 0.00000007742 * Math.cos(0.34415356371 + 55.6591434561 * t);
-        X0 += 0.00000005694 * Math.cos(5.43835853469 + 760.25553592 * t);
-        X0 += 0.00000007522 * Math.cos(5.29284930513 + 195.8906076987 * t);
-        X0 += 0.00000006763 * Math.cos(1.17534779375 + 1048.3362299253 * t);
-        X0 += 0.00000005984 * Math.cos(5.51254229373 + 2200.5159935946 * t);
-        X0 += 0.00000007444 * Math.cos(3.03494365469 + 25.2727942655 * t);
-        X0 += 0.00000005776 * Math.cos(3.77825555332 + 97.4155158163 * t);
-        X0 += 0.00000006036 * Math.cos(0.39078322489 + 769.8167634756 * t);
-        X0 += 0.00000005771 * Math.cos(0.05336444936 + 164.5410506616 * t);
-        X0 += 0.00000006703 * Math.cos(0.80548964242 + 611.4430983108 * t);
-        X0 += 0.00000006085 * Math.cos(0.58940873359 + 433.190473015 * t);
-        X0 += 0.00000006082 * Math.cos(1.19286005781 + 640.4185511758 * t);
-        X0 += 0.00000005677 * Math.cos(1.79542287271 + 218.4069048687 * t);
-        X0 += 0.00000005677 * Math.cos(3.09420329388 + 208.1912860073 * t);
-        X0 += 0.00000006571 * Math.cos(2.03293250235 + 1130.2313754934 * t);
-        X0 += 0.00000006037 * Math.cos(6.25609827209 + 597.3590166611 * t);
-        X0 += 0.00000006462 * Math.cos(5.68467908647 + 369.9758395734 * t);
-        X0 += 0.00000006508 * Math.cos(0.80289146979 + 566.600160455 * t);
-        X0 += 0.00000005024 * Math.cos(0.18128124566 + 806.725958836 * t);
-        X0 += 0.00000005596 * Math.cos(6.00166997853 + 108.7218485111 * t);
-        X0 += 0.00000005096 * Math.cos(4.69337848431 + 262.0571402144 * t);
-        X0 += 0.00000005584 * Math.cos(4.09591630918 + 200.5564741447 * t);
-        X0 += 0.00000004890 * Math.cos(5.53191489233 + 331.2096644892 * t);
-        X0 += 0.00000004909 * Math.cos(5.20095693748 + 298.2326223919 * t);
-        X0 += 0.00000005201 * Math.cos(2.45613065009 + 746.9222137957 * t);
-        X0 += 0.00000005769 * Math.cos(1.28477282445 + 320.5846553506 * t);
-        X0 += 0.00000005914 * Math.cos(5.62754393946 + 310.7146112543 * t);
-        X0 += 0.00000006262 * Math.cos(1.63342326112 + 850.0149880143 * t);
-        X0 += 0.00000005900 * Math.cos(2.28550106807 + 3583.4033404412 * t);
-        X0 += 0.00000005515 * Math.cos(5.67488096006 + 551.031606097 * t);
-        X0 += 0.00000006597 * Math.cos(4.37352567409 + 26087.9031415742 * t);
-        X0 += 0.00000005599 * Math.cos(4.68574003719 + 58.1068240109 * t);
-        X0 += 0.00000004849 * Math.cos(1.54472616566 + 124.5028511902 * t);
-        X0 += 0.00000006433 * Math.cos(3.97004927835 + 348.635198571 * t);
-        X0 += 0.00000004798 * Math.cos(0.51398456833 + 170.7608257851 * t);
-        X0 += 0.00000004977 * Math.cos(4.78098618763 + 178.086821107 * t);
-        X0 += 0.00000005019 * Math.cos(5.07746652322 + 1044.4040766622 * t);
-        X0 += 0.00000004699 * Math.cos(5.64438940211 + 439.9315130003 * t);
-        X0 += 0.00000004698 * Math.cos(3.18834480214 + 532.8723588323 * t);
-        X0 += 0.00000005132 * Math.cos(4.99955185305 + 88.7962442478 * t);
-        X0 += 0.00000005636 * Math.cos(0.71123925881 + 499.895316735 * t);
-        X0 += 0.00000006475 * Math.cos(4.64377955570 + 71.8126531507 * t);
-        X0 += 0.00000005591 * Math.cos(2.54795843844 + 285.1117485887 * t);
-        X0 += 0.00000004650 * Math.cos(4.46967285108 + 271.4059194489 * t);
-        X0 += 0.00000006065 * Math.cos(3.67428256045 + 55.1378785943 * t);
-        X0 += 0.00000005035 * Math.cos(0.56276653096 + 658.0565335787 * t);
-        X0 += 0.00000005063 * Math.cos(1.68875674251 + 774.4826299216 * t);
-        X0 += 0.00000004622 * Math.cos(3.21978369593 + 3686.4961146598 * t);
-        X0 += 0.00000004618 * Math.cos(5.47461001336 + 634.2682120215 * t);
-        X0 += 0.00000005322 * Math.cos(3.30473124435 + 484.7050148869 * t);
-        X0 += 0.00000005515 * Math.cos(5.87001298520 + 455.1699989582 * t);
-        X0 += 0.00000005556 * Math.cos(1.42370049360 + 486.4019359163 * t);
-        X0 += 0.00000004834 * Math.cos(2.10033655923 + 104.0559820651 * t);
-        X0 += 0.00000004936 * Math.cos(5.96187000337 + 43.1289704839 * t);
-        X0 += 0.00000004507 * Math.cos(5.23081644191 + 732.6951197941 * t);
-        X0 += 0.00000005248 * Math.cos(1.60812739618 + 604.4725636619 * t);
-        X0 += 0.00000004459 * Math.cos(5.51910339097 + 745.277682393 * t);
-        X0 += 0.00000005599 * Math.cos(5.57825850766 + 952.0963702766 * t);
-        X0 += 0.00000005864 * Math.cos(5.53324867687 + 385.5443939314 * t);
-        X0 += 0.00000005551 * Math.cos(4.94468510351 + 493.303034596 * t);
-        X0 += 0.00000004493 * Math.cos(5.35984494325 + 3377.217792004 * t);
-        X0 += 0.00000004770 * Math.cos(3.19401209745 + 991.7138786227 * t);
-        X0 += 0.00000004717 * Math.cos(1.99096492023 + 104.5772469269 * t);
-        X0 += 0.00000004781 * Math.cos(3.88757701071 + 504.561183181 * t);
-        X0 += 0.00000004811 * Math.cos(4.61942610145 + 327.6982023514 * t);
-        X0 += 0.00000004442 * Math.cos(1.62929961065 + 2538.2485042536 * t);
-        X0 += 0.00000005958 * Math.cos(4.92614870987 + 25.8634950965 * t);
-        X0 += 0.00000004453 * Math.cos(1.49117065737 + 198.4813006054 * t);
-        X0 += 0.00000004332 * Math.cos(1.57527271192 + 636.9765250072 * t);
-        X0 += 0.00000004513 * Math.cos(2.85438575456 + 26.826702943 * t);
-        X0 += 0.00000005809 * Math.cos(4.81932495515 + 254.3528923826 * t);
-        X0 += 0.00000004384 * Math.cos(2.84168114097 + 113.1270825262 * t);
-        X0 += 0.00000004282 * Math.cos(5.65363400412 + 840.6662087798 * t);
-        X0 += 0.00000004886 * Math.cos(3.63166667952 + 201.5196819912 * t);
-        X0 += 0.00000005016 * Math.cos(2.09046597167 + 969.6224780949 * t);
-        X0 += 0.00000004678 * Math.cos(2.17426317348 + 111.4301614968 * t);
-        X0 += 0.00000005361 * Math.cos(5.94947162548 + 2957.7331481288 * t);
-        X0 += 0.00000004286 * Math.cos(4.43156019975 + 1596.1864422846 * t);
-        X0 += 0.00000004205 * Math.cos(5.66354698683 + 1141.1340634054 * t);
-        X0 += 0.00000004536 * Math.cos(2.79117546568 + 958.576777831 * t);
-        X0 += 0.00000005345 * Math.cos(4.72267996291 + 305.0855369618 * t);
-        X0 += 0.00000004627 * Math.cos(1.25635250543 + 775.233389447 * t);
-        X0 += 0.00000004067 * Math.cos(4.95801020752 + 103.1409583284 * t);
-        X0 += 0.00000004243 * Math.cos(4.31618117654 + 3473.1970192218 * t);
-        X0 += 0.00000004845 * Math.cos(3.84775416722 + 226.0417167313 * t);
-        X0 += 0.00000004049 * Math.cos(4.11924182490 + 372.4235201282 * t);
-        X0 += 0.00000004900 * Math.cos(2.55288578170 + 376.1956146969 * t);
-        X0 += 0.00000005025 * Math.cos(5.95342304346 + 721.6494195302 * t);
-        X0 += 0.00000004077 * Math.cos(5.03795321512 + 650.1922270525 * t);
-        X0 += 0.00000004372 * Math.cos(4.29308416788 + 225.0785088848 * t);
-        X0 += 0.00000004173 * Math.cos(1.85843228263 + 211.0114735776 * t);
-        X0 += 0.00000004173 * Math.cos(3.03119388396 + 215.5867172984 * t);
-        X0 += 0.00000004251 * Math.cos(0.70715248384 + 771.3012361839 * t);
-        X0 += 0.00000004060 * Math.cos(3.39845529642 + 228.1168902706 * t);
-        X0 += 0.00000004018 * Math.cos(1.44814155604 + 631.8205314667 * t);
-        X0 += 0.00000004766 * Math.cos(5.31180947705 + 424.9012698466 * t);
-        X0 += 0.00000003945 * Math.cos(5.69539937683 + 337.8019466282 * t);
-        X0 += 0.00000005029 * Math.cos(0.09918962647 + 197.257460328 * t);
-        X0 += 0.00000005430 * Math.cos(2.20843836599 + 481.7360694703 * t);
-        X0 += 0.00000005129 * Math.cos(5.44565533795 + 207.6218370357 * t);
-        X0 += 0.00000005129 * Math.cos(5.72715613582 + 218.9763538403 * t);
-        X0 += 0.00000003855 * Math.cos(5.22645171016 + 425.3743505986 * t);
-        X0 += 0.00000003906 * Math.cos(2.26422119383 + 561.934294009 * t);
-        X0 += 0.00000003860 * Math.cos(4.85683625563 + 512.4254897072 * t);
-        X0 += 0.00000004220 * Math.cos(4.94104825465 + 102.1295663721 * t);
-        X0 += 0.00000003855 * Math.cos(4.44425417057 + 427.8220311534 * t);
-        X0 += 0.00000004133 * Math.cos(1.76751139179 + 103.0445901088 * t);
-        X0 += 0.00000005008 * Math.cos(3.00713483837 + 17.2654753874 * t);
-        X0 += 0.00000004043 * Math.cos(6.12585155815 + 317.3550775031 * t);
-        X0 += 0.00000003992 * Math.cos(0.10863881475 + 248.511369769 * t);
-        X0 += 0.00000003810 * Math.cos(2.51661775808 + 316.4400537664 * t);
-        X0 += 0.00000004737 * Math.cos(1.84385858957 + 913.9633346388 * t);
-        X0 += 0.00000003904 * Math.cos(2.21361301063 + 378.9039276826 * t);
-        X0 += 0.00000004533 * Math.cos(2.70360699200 + 187.2755416471 * t);
-        X0 += 0.00000003961 * Math.cos(6.02031538242 + 49.7212526229 * t);
-        X0 += 0.00000004571 * Math.cos(0.20381543275 + 519.3960243561 * t);
-        X0 += 0.00000003770 * Math.cos(4.79955563925 + 214.6716935617 * t);
-        X0 += 0.00000003770 * Math.cos(0.09007052734 + 211.9264973143 * t);
-        X0 += 0.00000004880 * Math.cos(0.60377262547 + 120.5012619579 * t);
-        X0 += 0.00000003729 * Math.cos(0.34904169037 + 407.4757357648 * t);
-        X0 += 0.00000003673 * Math.cos(1.39200838994 + 668.2084619653 * t);
-        X0 += 0.00000003788 * Math.cos(4.13636636049 + 258.5456780766 * t);
-        X0 += 0.00000003638 * Math.cos(6.22563045614 + 634.4806603426 * t);
-        X0 += 0.00000003968 * Math.cos(5.56983671727 + 398.2870152247 * t);
-        X0 += 0.00000003571 * Math.cos(4.16908170855 + 2730.2069586892 * t);
-        X0 += 0.00000003567 * Math.cos(5.46257677177 + 623.2225117576 * t);
-        X0 += 0.00000003562 * Math.cos(0.28991457103 + 700.6642392008 * t);
-        X0 += 0.00000003820 * Math.cos(1.98270616092 + 328.2407190726 * t);
-        X0 += 0.00000003710 * Math.cos(3.60752296582 + 22.8945496799 * t);
-        X0 += 0.00000004542 * Math.cos(1.45826982445 + 491.5579294568 * t);
-        X0 += 0.00000004509 * Math.cos(4.78400214531 + 229.340730548 * t);
-        X0 += 0.00000003567 * Math.cos(0.22693346941 + 48.7580447764 * t);
-        X0 += 0.00000004753 * Math.cos(4.82350219524 + 1033.3583763983 * t);
-        X0 += 0.00000003649 * Math.cos(3.53826646640 + 444.1242986943 * t);
-        X0 += 0.00000004339 * Math.cos(5.05440607437 + 608.877797677 * t);
-        X0 += 0.00000003452 * Math.cos(3.19273243429 + 188.0263011725 * t);
-        X0 += 0.00000004668 * Math.cos(2.31177528169 + 60.5545045657 * t);
-        X0 += 0.00000003751 * Math.cos(2.61178091734 + 1119.1856752295 * t);
-        X0 += 0.00000003677 * Math.cos(4.85446825853 + 418.7338843498 * t);
-        X0 += 0.00000003519 * Math.cos(5.41450486643 + 707.5653378805 * t);
-        X0 += 0.00000003496 * Math.cos(0.40428886685 + 616.3214130779 * t);
-        X0 += 0.00000004380 * Math.cos(4.31147715738 + 526.9826521089 * t);
-        X0 += 0.00000003327 * Math.cos(1.80704273557 + 1063.3140834523 * t);
-        X0 += 0.00000003352 * Math.cos(0.72463251624 + 691.1030116452 * t);
-        X0 += 0.00000003359 * Math.cos(5.44969389586 + 842.9014410135 * t);
-        X0 += 0.00000004413 * Math.cos(0.86251574445 + 43.2890291783 * t);
-        X0 += 0.00000003919 * Math.cos(4.80852982048 + 141.6988906084 * t);
-        X0 += 0.00000003858 * Math.cos(4.90751231957 + 635.231419868 * t);
-        X0 += 0.00000004154 * Math.cos(4.98287829121 + 317.8763423649 * t);
-        X0 += 0.00000003282 * Math.cos(1.34273841324 + 211.762233103 * t);
-        X0 += 0.00000003282 * Math.cos(3.54688775335 + 214.835957773 * t);
-        X0 += 0.00000003462 * Math.cos(5.28874398045 + 6275.9623029906 * t);
-        X0 += 0.00000003329 * Math.cos(2.94000486288 + 765.8846102125 * t);
-        X0 += 0.00000003787 * Math.cos(5.85679753021 + 652.4274592862 * t);
-        X0 += 0.00000003775 * Math.cos(5.60221993472 + 316.3436855468 * t);
-        X0 += 0.00000003196 * Math.cos(4.55749476039 + 827.9235874865 * t);
-        X0 += 0.00000003669 * Math.cos(1.26608108937 + 80.1982245387 * t);
-        X0 += 0.00000003691 * Math.cos(0.48718733608 + 194.2885149114 * t);
-        X0 += 0.00000003467 * Math.cos(4.32351780506 + 428.2951119054 * t);
-        X0 += 0.00000004055 * Math.cos(0.58820420847 + 92.3077063856 * t);
-        X0 += 0.00000003131 * Math.cos(5.94102893952 + 306.830642101 * t);
-        X0 += 0.00000003280 * Math.cos(0.44836167723 + 10206.1719992102 * t);
-        X0 += 0.00000003411 * Math.cos(5.25293859876 + 2516.9078632512 * t);
-        X0 += 0.00000004132 * Math.cos(1.72276410779 + 434.2330027386 * t);
-        X0 += 0.00000003810 * Math.cos(4.51464393472 + 114.9416236346 * t);
-        X0 += 0.00000003975 * Math.cos(4.55663174904 + 101.8689339412 * t);
-        X0 += 0.00000004288 * Math.cos(2.13145763000 + 187.6962327724 * t);
-        X0 += 0.00000003522 * Math.cos(2.64133662278 + 315.1680293792 * t);
-        X0 += 0.00000003066 * Math.cos(3.74972662168 + 167.0893049529 * t);
-        X0 += 0.00000003065 * Math.cos(2.77896770254 + 71.6002048296 * t);
-        X0 += 0.00000003242 * Math.cos(4.09907147245 + 282.6640680339 * t);
-        X0 += 0.00000003110 * Math.cos(4.53477861170 + 165.6048322446 * t);
-        X0 += 0.00000003898 * Math.cos(5.51287081695 + 318.8395502114 * t);
-        X0 += 0.00000003396 * Math.cos(0.34591089696 + 37.8724032069 * t);
-        X0 += 0.00000003526 * Math.cos(5.16158818006 + 495.9631634719 * t);
-        X0 += 0.00000003045 * Math.cos(1.65993856041 + 2854.6403739102 * t);
-        X0 += 0.00000003020 * Math.cos(3.91237540740 + 3796.7024358792 * t);
-        X0 += 0.00000002986 * Math.cos(2.56850390941 + 92.7978334801 * t);
-        X0 += 0.00000003500 * Math.cos(4.38440462601 + 789.4604834486 * t);
-        X0 += 0.00000002995 * Math.cos(2.81664751125 + 91.7864415238 * t);
-        X0 += 0.00000003539 * Math.cos(0.99888072542 + 232.942815411 * t);
-        X0 += 0.00000002920 * Math.cos(1.23618862034 + 625.8826406335 * t);
-        X0 += 0.00000002918 * Math.cos(3.43409170637 + 357.2332182801 * t);
-        X0 += 0.00000003176 * Math.cos(5.31403301104 + 281.1795953256 * t);
-        X0 += 0.00000003438 * Math.cos(1.70954494565 + 40.8413486235 * t);
-        X0 += 0.00000003008 * Math.cos(4.10197187210 + 434.4624974022 * t);
-        X0 += 0.00000003572 * Math.cos(1.37113437514 + 851.7119090437 * t);
-        X0 += 0.00000003076 * Math.cos(2.32677490754 + 130.4407420234 * t);
-        X0 += 0.00000002804 * Math.cos(4.40192840756 + 425.1619022775 * t);
-        X0 += 0.00000003278 * Math.cos(4.40243851704 + 232.3096759646 * t);
-        X0 += 0.00000002856 * Math.cos(0.45182720699 + 544.5087599272 * t);
-        X0 += 0.00000003073 * Math.cos(5.89479692757 + 3274.1250177854 * t);
-        X0 += 0.00000003735 * Math.cos(2.28131065621 + 315.4286618101 * t);
-        X0 += 0.00000003542 * Math.cos(2.10431928280 + 239.3226492289 * t);
-        X0 += 0.00000002887 * Math.cos(2.09394741374 + 93.531546663 * t);
-        X0 += 0.00000002754 * Math.cos(3.20876354263 + 620.253566341 * t);
-        X0 += 0.00000002804 * Math.cos(5.26877747317 + 428.0344794745 * t);
-        X0 += 0.00000003749 * Math.cos(5.48742893669 + 145.4185955504 * t);
-        X0 += 0.00000003056 * Math.cos(2.25124826101 + 354.2642728635 * t);
-        X0 += 0.00000002944 * Math.cos(1.57941122467 + 42.3258213318 * t);
-        X0 += 0.00000003422 * Math.cos(2.77554592584 + 268.4369740323 * t);
-        X0 += 0.00000002693 * Math.cos(5.92886276832 + 432.9609783514 * t);
-        X0 += 0.00000003406 * Math.cos(6.14851742084 + 498.9321088885 * t);
-        X0 += 0.00000003270 * Math.cos(2.70575765331 + 924.0458270562 * t);
-        X0 += 0.00000003462 * Math.cos(0.16427456264 + 182.5402392319 * t);
-        X0 += 0.00000003693 * Math.cos(2.74095304329 + 238.9019581036 * t);
-        X0 += 0.00000002752 * Math.cos(3.53715013471 + 322.0209439491 * t);
-        X0 += 0.00000003056 * Math.cos(5.41339084119 + 179.5712938153 * t);
-        X0 += 0.00000003320 * Math.cos(2.19510410160 + 122.7364941916 * t);
-        X0 += 0.00000002722 * Math.cos(1.90912932797 + 644.090072008 * t);
-        X0 += 0.00000002640 * Math.cos(5.38886758602 + 110.9570807448 * t);
-        X0 += 0.00000002578 * Math.cos(5.28716556602 + 305.6068018236 * t);
-        X0 += 0.00000003099 * Math.cos(5.46033388346 + 699.7010313543 * t);
-        X0 += 0.00000002579 * Math.cos(6.17990568201 + 953.1077622329 * t);
-        X0 += 0.00000002666 * Math.cos(3.91979516134 + 1080.7225711916 * t);
-        X0 += 0.00000002603 * Math.cos(4.71971033929 + 508.4933364441 * t);
-        X0 += 0.00000002559 * Math.cos(5.36447720972 + 639.1465267886 * t);
-        X0 += 0.00000003052 * Math.cos(5.04923062913 + 541.5398145106 * t);
-        X0 += 0.00000002581 * Math.cos(2.63020337570 + 158.9643659958 * t);
-        X0 += 0.00000002686 * Math.cos(0.15925446852 + 642.8180476208 * t);
-        X0 += 0.00000002828 * Math.cos(3.75586347766 + 256.4280659219 * t);
-        X0 += 0.00000002519 * Math.cos(1.97787997983 + 297.6419215609 * t);
-        X0 += 0.00000003364 * Math.cos(6.07299583147 + 133.1008708993 * t);
-        X0 += 0.00000002945 * Math.cos(3.64179989725 + 346.3999663373 * t);
-        X0 += 0.00000002913 * Math.cos(4.65296860477 + 77.2292791221 * t);
-        X0 += 0.00000002757 * Math.cos(0.02272937414 + 526.7702037878 * t);
-        X0 += 0.00000002473 * Math.cos(1.69595483874 + 109.455561694 * t);
-        X0 += 0.00000002541 * Math.cos(3.95256698363 + 2627.1141844706 * t);
-        X0 += 0.00000002455 * Math.cos(4.87312623650 + 1049.0869894507 * t);
-        X0 += 0.00000002558 * Math.cos(1.52714175495 + 310.9752436852 * t);
-        X0 += 0.00000002441 * Math.cos(0.71752432785 + 586.3133163972 * t);
-        X0 += 0.00000002660 * Math.cos(3.15325492704 + 443.2729654324 * t);
-        X0 += 0.00000002430 * Math.cos(3.16920826862 + 95.2284676924 * t);
-        X0 += 0.00000002431 * Math.cos(1.26439356329 + 235.933012687 * t);
-        X0 += 0.00000002845 * Math.cos(2.05201739396 + 531.978586955 * t);
-        X0 += 0.00000002521 * Math.cos(2.31197583573 + 451.7279727896 * t);
-        X0 += 0.00000002393 * Math.cos(2.81359164609 + 2435.155730035 * t);
-        X0 += 0.00000002990 * Math.cos(5.57751092323 + 782.3469364478 * t);
-        X0 += 0.00000002655 * Math.cos(5.30662457895 + 440.6128365565 * t);
-        X0 += 0.00000002369 * Math.cos(0.84466299231 + 205.9731001161 * t);
-        X0 += 0.00000002369 * Math.cos(0.90337052069 + 220.6250907599 * t);
-        X0 += 0.00000002902 * Math.cos(1.05411548466 + 514.7131115676 * t);
-        X0 += 0.00000003238 * Math.cos(4.15318242424 + 338.4832701844 * t);
-        X0 += 0.00000002324 * Math.cos(3.98030953004 + 3046.5988283458 * t);
-        X0 += 0.00000002701 * Math.cos(5.31010726656 + 300.6108669775 * t);
-        X0 += 0.00000002780 * Math.cos(4.37370836037 + 173.6815870919 * t);
-        X0 += 0.00000002707 * Math.cos(2.11193249903 + 176.3899000776 * t);
-        X0 += 0.00000002952 * Math.cos(2.31378455663 + 645.5263606065 * t);
-        X0 += 0.00000002579 * Math.cos(3.01647667365 + 768.8535556291 * t);
-        X0 += 0.00000002253 * Math.cos(2.22683989192 + 310.1720945331 * t);
-        X0 += 0.00000002264 * Math.cos(2.70110641487 + 104.789695248 * t);
-        X0 += 0.00000002301 * Math.cos(3.65558835862 + 263.0203480609 * t);
-        X0 += 0.00000002531 * Math.cos(5.13512447782 + 90.5626012464 * t);
-        X0 += 0.00000002331 * Math.cos(1.28063056772 + 518.3846323998 * t);
-        X0 += 0.00000002380 * Math.cos(0.88280891663 + 151.260118164 * t);
-        X0 += 0.00000002214 * Math.cos(2.22525274083 + 64.9597385808 * t);
-        X0 += 0.00000003045 * Math.cos(1.33956207243 + 485.8806710545 * t);
-        X0 += 0.00000002520 * Math.cos(3.36033478916 + 685.4739373527 * t);
-        X0 += 0.00000002315 * Math.cos(0.30208014686 + 6681.2248533996 * t);
-        X0 += 0.00000002594 * Math.cos(5.66621296914 + 520.129737539 * t);
-        X0 += 0.00000002863 * Math.cos(4.71904318311 + 244.0579516441 * t);
-        X0 += 0.00000002198 * Math.cos(1.53245970000 + 945.2434557067 * t);
-        X0 += 0.00000002811 * Math.cos(1.38980153585 + 641.3817590223 * t);
-        X0 += 0.00000002590 * Math.cos(0.63795679785 + 170.1701249541 * t);
-        X0 += 0.00000002192 * Math.cos(5.38214041197 + 1457.525933062 * t);
-        X0 += 0.00000002434 * Math.cos(0.55328719145 + 183.2428146475 * t);
-        X0 += 0.00000002177 * Math.cos(2.60434709441 + 67.8804998876 * t);
-        X0 += 0.00000002285 * Math.cos(5.28065763454 + 3693.6096616606 * t);
-        X0 += 0.00000002386 * Math.cos(4.37257867425 + 430.7427924602 * t);
-        X0 += 0.00000002131 * Math.cos(0.06257344923 + 1382.8873468466 * t);
-        X0 += 0.00000002457 * Math.cos(5.75336601172 + 247.0268970607 * t);
-        X0 += 0.00000002733 * Math.cos(4.35442499364 + 35.1640902212 * t);
-        X0 += 0.00000002125 * Math.cos(1.82804301978 + 487.1526954417 * t);
-        X0 += 0.00000002518 * Math.cos(6.01723329840 + 1038.0412891868 * t);
-        X0 += 0.00000002769 * Math.cos(4.20672417380 + 1056.2005364515 * t);
-        X0 += 0.00000002091 * Math.cos(1.35636529813 + 3171.0322435668 * t);
-        X0 += 0.00000002102 * Math.cos(4.35040361644 + 960.2213092337 * t);
-        X0 += 0.00000002250 * Math.cos(5.37793316456 + 366.0436863103 * t);
-        X0 += 0.00000002818 * Math.cos(0.74477457405 + 837.6972633632 * t);
-        X0 += 0.00000002071 * Math.cos(2.17194520595 + 354.9979860464 * t);
-        X0 += 0.00000002403 * Math.cos(2.26992497484 + 452.2010535416 * t);
-        X0 += 0.00000002384 * Math.cos(2.06538211924 + 3899.7952100978 * t);
-        X0 += 0.00000002564 * Math.cos(3.29999345582 + 427.4919627533 * t);
-        X0 += 0.00000002136 * Math.cos(3.54044416897 + 1108.1399749656 * t);
-        X0 += 0.00000002111 * Math.cos(5.24419959900 + 422.4535892918 * t);
-        X0 += 0.00000002308 * Math.cos(3.09971194846 + 154.979823106 * t);
-        X0 += 0.00000002417 * Math.cos(1.74786098852 + 12566.1516999828 * t);
-        X0 += 0.00000002008 * Math.cos(3.46468625683 + 528.9402055692 * t);
-        X0 += 0.00000002409 * Math.cos(0.88586446483 + 306.0969289181 * t);
-        X0 += 0.00000002581 * Math.cos(2.78681732927 + 1041.2226829245 * t);
-        X0 += 0.00000002016 * Math.cos(1.08557176939 + 883.7951792637 * t);
-        X0 += 0.00000002203 * Math.cos(2.74611438181 + 49.5088043018 * t);
-        X0 += 0.00000002083 * Math.cos(4.04786990254 + 275.338072712 * t);
-        X0 += 0.00000002346 * Math.cos(5.96958886629 + 447.2051186955 * t);
-        X0 += 0.00000002490 * Math.cos(5.97604559832 + 2487.4160449478 * t);
-        X0 += 0.00000002521 * Math.cos(0.54835814181 + 927.8349679674 * t);
-        X0 += 0.00000001993 * Math.cos(0.73100346778 + 624.919432787 * t);
-        X0 += 0.00000001969 * Math.cos(0.87879585646 + 530.44172462 * t);
-        X0 += 0.00000002467 * Math.cos(1.16140871474 + 429.5671362926 * t);
-        X0 += 0.00000001995 * Math.cos(5.64222397445 + 409.3327154886 * t);
-        X0 += 0.00000002651 * Math.cos(0.94022335035 + 453.424893819 * t);
-        X0 += 0.00000002513 * Math.cos(4.76844959033 + 125.1841747464 * t);
-        X0 += 0.00000002053 * Math.cos(2.05591891799 + 90.8232336773 * t);
-        X0 += 0.00000001932 * Math.cos(3.95253835421 + 1062.5633239269 * t);
-        X0 += 0.00000002205 * Math.cos(3.39623617614 + 170.9732741062 * t);
-        X0 += 0.00000002207 * Math.cos(1.51125342980 + 635.70450062 * t);
-        X0 += 0.00000001873 * Math.cos(5.39713666127 + 344.8460576598 * t);
-        X0 += 0.00000002386 * Math.cos(4.15983782692 + 25234.70675982219 * t);
-        X0 += 0.00000002258 * Math.cos(5.14806130138 + 1008.9793540101 * t);
-        X0 += 0.00000002199 * Math.cos(3.67407324592 + 784.0438574772 * t);
-        X0 += 0.00000002185 * Math.cos(3.86724562969 + 109.9456887885 * t);
-        X0 += 0.00000002564 * Math.cos(0.08752711773 + 425.7044189987 * t);
-        X0 += 0.00000001964 * Math.cos(2.72517368869 + 40.1600250673 * t);
-        X0 += 0.00000001952 * Math.cos(4.34777048454 + 115.8353955119 * t);
-        X0 += 0.00000002542 * Math.cos(0.28050831901 + 354.7855377253 * t);
-        X0 += 0.00000001916 * Math.cos(3.22097581831 + 102.5715093568 * t);
-        X0 += 0.00000002296 * Math.cos(5.31801448840 + 180.8433182025 * t);
-        X0 += 0.00000002393 * Math.cos(5.91612529116 + 614.6244920485 * t);
-        X0 += 0.00000002397 * Math.cos(0.99397031563 + 1364.7280995819 * t);
-        X0 += 0.00000001833 * Math.cos(2.25941996337 + 267.6338248802 * t);
-        X0 += 0.00000002131 * Math.cos(3.67200185333 + 103.6140390804 * t);
-        X0 += 0.00000002098 * Math.cos(0.08769001353 + 252.9166037841 * t);
-        X0 += 0.00000002063 * Math.cos(5.99371300183 + 177.1236132605 * t);
-        X0 += 0.00000002479 * Math.cos(5.27883727495 + 631.2992666049 * t);
-        X0 += 0.00000002017 * Math.cos(4.33633811733 + 243.3553762285 * t);
-        X0 += 0.00000001781 * Math.cos(0.19920025414 + 205.9249160063 * t);
-        X0 += 0.00000001781 * Math.cos(1.54883325886 + 220.6732748697 * t);
-        X0 += 0.00000002268 * Math.cos(0.06736545150 + 1171.875873269 * t);
-        X0 += 0.00000002271 * Math.cos(5.09542141062 + 192.8040422031 * t);
-        X0 += 0.00000002271 * Math.cos(6.07739006315 + 233.7941486729 * t);
-        X0 += 0.00000001785 * Math.cos(4.70446916733 + 1097.0942747017 * t);
-        X0 += 0.00000002111 * Math.cos(4.95171731483 + 670.916774951 * t);
-        X0 += 0.00000001859 * Math.cos(1.45447173175 + 1083.7609525774 * t);
-        X0 += 0.00000001774 * Math.cos(4.90826773112 + 206.4461808681 * t);
-        X0 += 0.00000001774 * Math.cos(3.12295108906 + 220.1520100079 * t);
-        X0 += 0.00000002018 * Math.cos(2.80222113517 + 250.2082907984 * t);
-        X0 += 0.00000002009 * Math.cos(0.61518299906 + 103.3534066495 * t);
-        X0 += 0.00000002121 * Math.cos(5.65835197937 + 799.6124118352 * t);
-        X0 += 0.00000002292 * Math.cos(6.18688041096 + 912.4788619305 * t);
-        X0 += 0.00000001775 * Math.cos(2.38950039489 + 198.1087935899 * t);
-        X0 += 0.00000001775 * Math.cos(5.64171842529 + 228.4893972861 * t);
-        X0 += 0.00000001924 * Math.cos(0.05347133105 + 533.8837507886 * t);
-        X0 += 0.00000001744 * Math.cos(5.54811865717 + 1166.4068576709 * t);
-        X0 += 0.00000001994 * Math.cos(0.23060158863 + 5849.3641121146 * t);
-        X0 += 0.00000001763 * Math.cos(5.61852245031 + 284.8993002676 * t);
-        X0 += 0.00000001710 * Math.cos(4.04740475434 + 1176.7017984094 * t);
-        X0 += 0.00000002094 * Math.cos(6.21687355107 + 835.7878940127 * t);
-        X0 += 0.00000001962 * Math.cos(1.66381480115 + 9779.5738083342 * t);
-        X0 += 0.00000002299 * Math.cos(6.24627458730 + 409.1897031367 * t);
-        X0 += 0.00000001786 * Math.cos(4.97887009884 + 346.1875180162 * t);
-        X0 += 0.00000001703 * Math.cos(1.00725031850 + 398.1440028728 * t);
-        X0 += 0.00000002083 * Math.cos(2.24494666476 + 5216.5803728014 * t);
-        X0 += 0.00000002072 * Math.cos(2.05694305195 + 45.2465826386 * t);
-        X0 += 0.00000001736 * Math.cos(2.08834850954 + 134.1122628556 * t);
-        X0 += 0.00000001708 * Math.cos(3.20756177408 + 3120.199784261 * t);
-        X0 += 0.00000001823 * Math.cos(5.21279378269 + 657.1627617014 * t);
-        X0 += 0.00000001792 * Math.cos(4.15157588985 + 3789.5888888784 * t);
-        X0 += 0.00000001836 * Math.cos(2.92694247168 + 644.56315276 * t);
-        X0 += 0.00000001759 * Math.cos(2.26827767388 + 2751.5475996916 * t);
-        X0 += 0.00000001684 * Math.cos(3.80248371853 + 3362.9906980024 * t);
-        X0 += 0.00000002081 * Math.cos(1.45707089705 + 587.2070882745 * t);
-        X0 += 0.00000001725 * Math.cos(1.32648620918 + 6290.1893969922 * t);
-        X0 += 0.00000001760 * Math.cos(1.05809960446 + 1091.6252591036 * t);
-        X0 += 0.00000001707 * Math.cos(2.05213382658 + 98.3574718034 * t);
-        X0 += 0.00000002178 * Math.cos(3.29717293610 + 118.0706277456 * t);
-        X0 += 0.00000002021 * Math.cos(5.89628715728 + 913.7508863177 * t);
-        X0 += 0.00000001805 * Math.cos(2.74507477460 + 1389.1071219701 * t);
-        X0 += 0.00000001780 * Math.cos(1.68202888730 + 9772.4602613334 * t);
-        X0 += 0.00000001687 * Math.cos(2.77110409640 + 10220.3990932118 * t);
-        X0 += 0.00000001942 * Math.cos(0.62508676865 + 246.4361962297 * t);
-        X0 += 0.00000001682 * Math.cos(5.71772687954 + 3590.516887442 * t);
-        X0 += 0.00000001585 * Math.cos(2.94676152634 + 4002.8879843164 * t);
-        X0 += 0.00000001942 * Math.cos(3.67572077367 + 9146.790069021 * t);
-        X0 += 0.00000002092 * Math.cos(5.60181404740 + 629.6023455755 * t);
-        X0 += 0.00000001930 * Math.cos(1.68011034900 + 271.61836777 * t);
-        X0 += 0.00000002109 * Math.cos(3.48166538243 + 757.8078553652 * t);
-        X0 += 0.00000002179 * Math.cos(0.28655950016 + 666.723989257 * t);
-        X0 += 0.00000001581 * Math.cos(5.53424328275 + 1159.2933106701 * t);
-        X0 += 0.00000001856 * Math.cos(4.17411768121 + 322.6116447801 * t);
-        X0 += 0.00000001568 * Math.cos(4.53671740651 + 122.4758617607 * t);
-        X0 += 0.00000001879 * Math.cos(5.27290591309 + 134.0640787458 * t);
-        X0 += 0.00000001594 * Math.cos(5.13131160823 + 624.3981679252 * t);
-        X0 += 0.00000001760 * Math.cos(4.32007497090 + 734.9133056853 * t);
-        X0 += 0.00000001764 * Math.cos(6.15149779828 + 560.7104537316 * t);
-        X0 += 0.00000001662 * Math.cos(3.01056999288 + 934.1977554428 * t);
-        X0 += 0.00000001644 * Math.cos(2.70575030230 + 525.0250986486 * t);
-        X0 += 0.00000001715 * Math.cos(5.05042473287 + 709.0498105888 * t);
-        X0 += 0.00000001878 * Math.cos(3.19550384063 + 155.7829722581 * t);
-        X0 += 0.00000001538 * Math.cos(2.05322828343 + 2648.454825473 * t);
-        X0 += 0.00000001653 * Math.cos(4.89962084723 + 318.679491517 * t);
-        X0 += 0.00000001742 * Math.cos(3.52477579020 + 58.319272332 * t);
-        X0 += 0.00000001584 * Math.cos(5.28343542578 + 3767.2106175758 * t);
-        X0 += 0.00000001503 * Math.cos(0.64126765918 + 315.8706047948 * t);
-        X0 += 0.00000001617 * Math.cos(2.39186277432 + 83.3796182764 * t);
-        X0 += 0.00000001522 * Math.cos(5.52609090590 + 406.1513217509 * t);
-        X0 += 0.00000001505 * Math.cos(4.00358265141 + 447.0450600011 * t);
-        X0 += 0.00000001511 * Math.cos(0.91634243175 + 1748.0372612796 * t);
-        X0 += 0.00000001830 * Math.cos(0.63474599912 + 259.5088859231 * t);
-        X0 += 0.00000001807 * Math.cos(0.06769453319 + 1193.9672737968 * t);
-        X0 += 0.00000001856 * Math.cos(3.57858164701 + 679.2541622292 * t);
-        X0 += 0.00000001519 * Math.cos(3.82968892812 + 1144.3154571431 * t);
-        X0 += 0.00000001498 * Math.cos(1.98604619754 + 174.6929790482 * t);
-        X0 += 0.00000001575 * Math.cos(0.59855315484 + 700.4517908797 * t);
-        X0 += 0.00000001458 * Math.cos(2.80570485080 + 415.2918581812 * t);
-        X0 += 0.00000002009 * Math.cos(3.89257651333 + 1372.5924061081 * t);
-        X0 += 0.00000001835 * Math.cos(5.85413600592 + 245.7548726735 * t);
-        X0 += 0.00000001577 * Math.cos(4.21988525964 + 9793.8009023358 * t);
-        X0 += 0.00000001662 * Math.cos(2.33876751022 + 1357.6145525811 * t);
-        X0 += 0.00000001445 * Math.cos(1.36342810835 + 105.380396079 * t);
-        X0 += 0.00000001785 * Math.cos(1.83848903190 + 736.8397213783 * t);
-        X0 += 0.00000001645 * Math.cos(5.17909722343 + 249.4745776155 * t);
-        X0 += 0.00000001495 * Math.cos(3.22730936805 + 77623.81213840858 * t);
-        X0 += 0.00000001503 * Math.cos(2.59801643048 + 413.8555695827 * t);
-        X0 += 0.00000001889 * Math.cos(3.64872229792 + 764.4001375042 * t);
-        X0 += 0.00000001503 * Math.cos(3.81614377386 + 4113.0943055358 * t);
-        X0 += 0.00000001517 * Math.cos(0.96214801531 + 535.9107402181 * t);
-        X0 += 0.00000001691 * Math.cos(4.02435252758 + 1268.7488723641 * t);
-        X0 += 0.00000001443 * Math.cos(2.05924697648 + 414.8187774292 * t);
-        X0 += 0.00000001453 * Math.cos(1.76200509604 + 608.404716925 * t);
-        X0 += 0.00000001417 * Math.cos(2.16805792847 + 103.3052225397 * t);
-        X0 += 0.00000001491 * Math.cos(2.71289281505 + 5863.5912061162 * t);
-        X0 += 0.00000001683 * Math.cos(4.01621825127 + 6503.4884924302 * t);
-        X0 += 0.00000001413 * Math.cos(4.95679658990 + 102.8803258975 * t);
-        X0 += 0.00000001438 * Math.cos(3.14372253740 + 550.1378342197 * t);
-        X0 += 0.00000001473 * Math.cos(6.03896352146 + 1354.4331588434 * t);
-        X0 += 0.00000001469 * Math.cos(0.70970063563 + 1452.8430202735 * t);
-        X0 += 0.00000001455 * Math.cos(5.17252529808 + 335.1418177523 * t);
-        X0 += 0.00000001409 * Math.cos(4.75328357688 + 4010.0015313172 * t);
-        X0 += 0.00000001848 * Math.cos(2.55365760167 + 419.6970921963 * t);
-        X0 += 0.00000001756 * Math.cos(2.17515099562 + 2707.8286873866 * t);
-        X0 += 0.00000001572 * Math.cos(5.11604878686 + 2090.3096723752 * t);
-        X0 += 0.00000001590 * Math.cos(0.88427818489 + 701.936263588 * t);
-        X0 += 0.00000001587 * Math.cos(5.49941870322 + 148.3393568572 * t);
-        X0 += 0.00000001391 * Math.cos(4.51136204527 + 812.9457339595 * t);
-        X0 += 0.00000001433 * Math.cos(5.96031312341 + 184.8449074348 * t);
-        X0 += 0.00000001770 * Math.cos(2.76997068745 + 610.6923387854 * t);
-        X0 += 0.00000001926 * Math.cos(4.60411263717 + 416.5638825684 * t);
-        X0 += 0.00000001512 * Math.cos(4.28907569036 + 428.2427222787 * t);
-        X0 += 0.00000001491 * Math.cos(6.19797514101 + 5746.271337896 * t);
-        X0 += 0.00000001891 * Math.cos(5.00794934593 + 1165.3954657146 * t);
-        X0 += 0.00000001759 * Math.cos(4.58582597435 + 200.0352092829 * t);
-        X0 += 0.00000001759 * Math.cos(3.44539284583 + 226.5629815931 * t);
-        X0 += 0.00000001507 * Math.cos(3.03240096716 + 728.0122070056 * t);
-        X0 += 0.00000001601 * Math.cos(5.43891433341 + 10433.6981886498 * t);
-        X0 += 0.00000001400 * Math.cos(0.26014578065 + 1950.2906564537 * t);
-        X0 += 0.00000001481 * Math.cos(1.32266089239 + 9676.4810341156 * t);
-        X0 += 0.00000001607 * Math.cos(1.30401533687 + 1645.6952465864 * t);
-        X0 += 0.00000001338 * Math.cos(0.32385668589 + 551.1010420662 * t);
-        X0 += 0.00000001369 * Math.cos(2.97642894950 + 2015.6710861598 * t);
-        X0 += 0.00000001684 * Math.cos(3.65255547244 + 2733.3883524269 * t);
-        X0 += 0.00000001377 * Math.cos(4.02534099039 + 183.5516311882 * t);
-        X0 += 0.00000001377 * Math.cos(0.86428517620 + 243.0465596878 * t);
-        X0 += 0.00000001545 * Math.cos(5.17617889881 + 469.7271613599 * t);
-        X0 += 0.00000001328 * Math.cos(4.26613234444 + 168.0525127994 * t);
-        X0 += 0.00000001329 * Math.cos(2.62043662585 + 1321.4390704036 * t);
-        X0 += 0.00000001832 * Math.cos(2.64902483032 + 1070.4276304531 * t);
-        X0 += 0.00000001714 * Math.cos(6.08300926304 + 79.1868325824 * t);
-        X0 += 0.00000001384 * Math.cos(0.51883875319 + 718.6110381444 * t);
-        X0 += 0.00000001293 * Math.cos(0.73720210492 + 443.8636662634 * t);
-        X0 += 0.00000001445 * Math.cos(5.54776352818 + 1546.5346256309 * t);
-        X0 += 0.00000001758 * Math.cos(3.53138641234 + 452.4616859725 * t);
-        X0 += 0.00000001323 * Math.cos(0.57163734440 + 1182.9215735329 * t);
-        X0 += 0.00000001464 * Math.cos(4.41309699814 + 359.893347156 * t);
-        X0 += 0.00000001376 * Math.cos(0.61103736579 + 535.3200393871 * t);
-        X0 += 0.00000001562 * Math.cos(5.38874817106 + 1116.0042814918 * t);
-        X0 += 0.00000001664 * Math.cos(4.95290022994 + 102.980899634 * t);
-        X0 += 0.00000001452 * Math.cos(0.95391083866 + 316.6525020875 * t);
-        X0 += 0.00000001371 * Math.cos(5.90092829407 + 1230.1427559743 * t);
-        X0 += 0.00000001287 * Math.cos(5.11643818914 + 1378.0614217062 * t);
-        X0 += 0.00000001540 * Math.cos(2.64182135460 + 2810.9214616052 * t);
-        X0 += 0.00000001306 * Math.cos(3.46049602472 + 118.8737768977 * t);
-        X0 += 0.00000001265 * Math.cos(1.74539951256 + 313.4711083498 * t);
-        X0 += 0.00000001458 * Math.cos(3.04954375653 + 9352.9756174582 * t);
-        X0 += 0.00000001268 * Math.cos(6.19011285620 + 945.9942152321 * t);
-        X0 += 0.00000001255 * Math.cos(4.69031464511 + 1365.4788591073 * t);
-        X0 += 0.00000001435 * Math.cos(5.66075669352 + 1112.0721282287 * t);
-        X0 += 0.00000001665 * Math.cos(0.62988746649 + 163.5778428151 * t);
-        X0 += 0.00000001357 * Math.cos(6.27754029215 + 2638.1598847345 * t);
-        X0 += 0.00000001500 * Math.cos(6.15789721114 + 253.4591205053 * t);
-        X0 += 0.00000001563 * Math.cos(1.45149048546 + 3391.4448860056 * t);
-        X0 += 0.00000001642 * Math.cos(2.81880394943 + 59.2824801785 * t);
-        X0 += 0.00000001594 * Math.cos(0.44695442950 + 109.3125493421 * t);
-        X0 += 0.00000001470 * Math.cos(5.32258746756 + 2693.601593385 * t);
-        X0 += 0.00000001254 * Math.cos(0.01314124764 + 1670.82502850 * t);
-        X0 += 0.00000001229 * Math.cos(2.75441751465 + 2321.0172555525 * t);
-        X0 += 0.00000001299 * Math.cos(3.73723007418 + 100.1720129118 * t);
-        X0 += 0.00000001378 * Math.cos(2.65430765160 + 1248.1419445446 * t);
-        X0 += 0.00000001579 * Math.cos(4.87543328136 + 1477.5945496772 * t);
-        X0 += 0.00000001343 * Math.cos(4.05019503298 + 973.554631358 * t);
-        X0 += 0.00000001249 * Math.cos(4.48467456107 + 1257.7031721002 * t);
-        X0 += 0.00000001409 * Math.cos(3.73682854833 + 321.0577361026 * t);
-        X0 += 0.00000001267 * Math.cos(5.32582018884 + 114.8721876654 * t);
-        X0 += 0.00000001279 * Math.cos(0.62790063934 + 208.8938614229 * t);
-        X0 += 0.00000001279 * Math.cos(1.12013287366 + 217.7043294531 * t);
-        X0 += 0.00000001360 * Math.cos(2.94106637275 + 731.6837278378 * t);
-        X0 += 0.00000001292 * Math.cos(2.58482128116 + 95.0160193713 * t);
-        X0 += 0.00000001208 * Math.cos(1.32714482271 + 115.8835796217 * t);
-        X0 += 0.00000001405 * Math.cos(5.51459382206 + 959.2099172774 * t);
-        X0 += 0.00000001492 * Math.cos(0.02061853237 + 745.9108218394 * t);
-        X0 += 0.00000001445 * Math.cos(4.87232535693 + 3149.6916025644 * t);
-        X0 += 0.00000001329 * Math.cos(3.78290919728 + 1226.2106027112 * t);
-        X0 += 0.00000001522 * Math.cos(0.18915606181 + 347.4113582936 * t);
-        X0 += 0.00000001621 * Math.cos(0.27051123464 + 25455.119402261 * t);
-        X0 += 0.00000001224 * Math.cos(2.09537326016 + 3067.9394693482 * t);
-        X0 += 0.00000001244 * Math.cos(1.25777650062 + 3487.4241132234 * t);
-        X0 += 0.00000001329 * Math.cos(0.53441781539 + 680.0573113813 * t);
-        X0 += 0.00000001450 * Math.cos(0.82068686253 + 25558.2121764796 * t);
-        X0 += 0.00000001360 * Math.cos(3.69759181292 + 670.4960838257 * t);
-        X0 += 0.00000001352 * Math.cos(3.75966450307 + 529.8028396792 * t);
-        X0 += 0.00000001236 * Math.cos(4.30743406740 + 539.0921339558 * t);
-        X0 += 0.00000001173 * Math.cos(2.82545343063 + 1383.6904959987 * t);
-        X0 += 0.00000001187 * Math.cos(1.03835064531 + 1394.7361962626 * t);
-        X0 += 0.00000001153 * Math.cos(5.83618369598 + 476.3194434989 * t);
-        X0 += 0.00000001176 * Math.cos(2.90357853330 + 251.9052118278 * t);
-        X0 += 0.00000001245 * Math.cos(4.65507327128 + 293.4973199767 * t);
-        X0 += 0.00000001285 * Math.cos(3.93504441733 + 4105.980758535 * t);
-        X0 += 0.00000001273 * Math.cos(0.55887711001 + 165.3441998137 * t);
-        X0 += 0.00000001392 * Math.cos(0.02252934590 + 5860.4098123785 * t);
-        X0 += 0.00000001357 * Math.cos(3.35598838973 + 101.6083015103 * t);
-        X0 += 0.00000001366 * Math.cos(5.22724394155 + 673.8375362578 * t);
-        X0 += 0.00000001211 * Math.cos(2.29834110056 + 270.8152186179 * t);
-        X0 += 0.00000001212 * Math.cos(1.82608292863 + 878.3261636656 * t);
-        X0 += 0.00000001180 * Math.cos(5.71255685193 + 774.0095491696 * t);
-        X0 += 0.00000001371 * Math.cos(3.12199503993 + 5852.5455058523 * t);
-        X0 += 0.00000001373 * Math.cos(4.47969866574 + 880.023084695 * t);
-        X0 += 0.00000001263 * Math.cos(1.72556296863 + 1696.0978227655 * t);
-        X0 += 0.00000001147 * Math.cos(5.23261055240 + 2047.9144150742 * t);
-        X0 += 0.00000001139 * Math.cos(4.25515435685 + 199.0238173266 * t);
-        X0 += 0.00000001139 * Math.cos(3.77606446333 + 227.5743735494 * t);
-        X0 += 0.00000001350 * Math.cos(3.52655624885 + 25440.89230825939 * t);
-        X0 += 0.00000001402 * Math.cos(0.27389279785 + 310.7627953641 * t);
-        X0 += 0.00000001177 * Math.cos(1.82815189392 + 303.0585475323 * t);
-        X0 += 0.00000001164 * Math.cos(3.52320292409 + 913.0001267923 * t);
-        X0 += 0.00000001180 * Math.cos(5.67582372815 + 272.5815756165 * t);
-        X0 += 0.00000001392 * Math.cos(5.39039322418 + 383.3091616977 * t);
-        X0 += 0.00000001228 * Math.cos(6.14895042777 + 91.4563731237 * t);
-        X0 += 0.00000001154 * Math.cos(0.40787574864 + 2040.8008680734 * t);
-        X0 += 0.00000001129 * Math.cos(5.00161734286 + 12.7426212933 * t);
-        X0 += 0.00000001431 * Math.cos(3.53246978944 + 1467.0701142751 * t);
-        X0 += 0.00000001126 * Math.cos(3.79660314533 + 848.530515306 * t);
-        X0 += 0.00000001513 * Math.cos(0.39925684800 + 1147.4968508808 * t);
-        X0 += 0.00000001153 * Math.cos(5.17505063686 + 1773.9178027186 * t);
-        X0 += 0.00000001128 * Math.cos(1.71769229719 + 976.7360250957 * t);
-        X0 += 0.00000001408 * Math.cos(1.58662566884 + 763.4369296577 * t);
-        X0 += 0.00000001458 * Math.cos(5.59143602269 + 1128.534454464 * t);
-        X0 += 0.00000001478 * Math.cos(0.06776988437 + 349.3689117539 * t);
-        X0 += 0.00000001510 * Math.cos(2.53664213755 + 754.8389099486 * t);
-        X0 += 0.00000001449 * Math.cos(3.17300960200 + 1020.025054274 * t);
-        X0 += 0.00000001356 * Math.cos(3.98680116862 + 108.50940019 * t);
-        X0 += 0.00000001249 * Math.cos(1.30613475993 + 1534.7381658416 * t);
-        X0 += 0.00000001131 * Math.cos(3.96272996671 + 5540.0857894588 * t);
-        X0 += 0.00000001289 * Math.cos(5.88758679432 + 1403.3342159717 * t);
-        X0 += 0.00000001191 * Math.cos(2.88509951530 + 466.7582159433 * t);
-        X0 += 0.00000001180 * Math.cos(1.37216464240 + 2012.4896924221 * t);
-        X0 += 0.00000001433 * Math.cos(4.14919194066 + 388.7257876691 * t);
-        X0 += 0.00000001519 * Math.cos(1.77602034236 + 1151.4290041439 * t);
-        X0 += 0.00000001096 * Math.cos(1.26794842991 + 373.0142209592 * t);
-        X0 += 0.00000001100 * Math.cos(0.77366362492 + 1724.4089984168 * t);
-        X0 += 0.00000001237 * Math.cos(4.45157430570 + 559.6990617753 * t);
-        X0 += 0.00000001358 * Math.cos(5.74355886162 + 877.1023233882 * t);
-        X0 += 0.00000001102 * Math.cos(4.63066438780 + 531.6967026647 * t);
-        X0 += 0.00000001302 * Math.cos(1.44598353889 + 9790.6195085981 * t);
-        X0 += 0.00000001204 * Math.cos(1.14665521525 + 1962.087116243 * t);
-        X0 += 0.00000001099 * Math.cos(5.99651405584 + 527.6852275245 * t);
-        X0 += 0.00000001178 * Math.cos(1.43511695783 + 1392.2885157078 * t);
-        X0 += 0.00000001255 * Math.cos(1.98199855048 + 877.5754041402 * t);
-        X0 += 0.00000001462 * Math.cos(6.27961731873 + 301.4140161296 * t);
-        X0 += 0.00000001075 * Math.cos(3.79098343355 + 645.3139122854 * t);
-        X0 += 0.00000001072 * Math.cos(4.01082765782 + 220.5727011332 * t);
-        X0 += 0.00000001072 * Math.cos(4.02039116236 + 206.0254897428 * t);
-        X0 += 0.00000001281 * Math.cos(4.54544859936 + 9782.7552020719 * t);
-        X0 += 0.00000001067 * Math.cos(5.00162271725 + 904.4021070832 * t);
-        X0 += 0.00000001096 * Math.cos(4.32947944704 + 1998.2625984205 * t);
-        X0 += 0.00000001076 * Math.cos(0.76185840399 + 898.7730327907 * t);
-        X0 += 0.00000001094 * Math.cos(0.91660450585 + 3803.81598288 * t);
-        X0 += 0.00000001428 * Math.cos(5.37194147298 + 2833.2997329078 * t);
-        X0 += 0.00000001072 * Math.cos(1.12267854328 + 206.3456071316 * t);
-        X0 += 0.00000001072 * Math.cos(0.62535496972 + 220.2525837444 * t);
-        X0 += 0.00000001171 * Math.cos(5.53099866879 + 1475.6851803267 * t);
-        X0 += 0.00000001054 * Math.cos(2.72358957995 + 5966.6839803348 * t);
-        X0 += 0.00000001302 * Math.cos(3.69508258754 + 1096.2429414398 * t);
-        X0 += 0.00000001396 * Math.cos(5.45482103248 + 1461.4410399826 * t);
-        X0 += 0.00000001385 * Math.cos(1.20423833249 + 1127.2624300768 * t);
-        X0 += 0.00000001170 * Math.cos(2.12698764013 + 704.8570248948 * t);
-        X0 += 0.00000001155 * Math.cos(1.13805007709 + 6599.467719648 * t);
-        X0 += 0.00000001131 * Math.cos(3.08204815771 + 1222.2784494481 * t);
-        X0 += 0.00000001116 * Math.cos(5.98592305871 + 1901.5326116773 * t);
-        X0 += 0.00000001288 * Math.cos(0.42379455454 + 1340.5615255148 * t);
-        X0 += 0.00000001314 * Math.cos(6.26564385850 + 1560.6187072806 * t);
-        X0 += 0.00000001286 * Math.cos(0.79929117404 + 1082.0158474382 * t);
-        X0 += 0.00000001048 * Math.cos(1.78990785167 + 532.6117264014 * t);
-        X0 += 0.00000001166 * Math.cos(5.05890554170 + 2467.3990589494 * t);
-        X0 += 0.00000001338 * Math.cos(0.28846575268 + 1244.226837624 * t);
-        X0 += 0.00000001319 * Math.cos(4.68406643646 + 5436.9930152402 * t);
-        X0 += 0.00000001299 * Math.cos(5.43850078022 + 2509.7943162504 * t);
-        X0 += 0.00000001253 * Math.cos(5.04434789546 + 482.2573343321 * t);
-        X0 += 0.00000001127 * Math.cos(0.30971437723 + 78477.00852016058 * t);
-        X0 += 0.00000001362 * Math.cos(5.11365032735 + 733.428832977 * t);
-        X0 += 0.00000001045 * Math.cos(4.69725794848 + 1247.4082313617 * t);
-        X0 += 0.00000001027 * Math.cos(3.09210187986 + 1699.2792165032 * t);
-        X0 += 0.00000001329 * Math.cos(5.03786795261 + 2740.5018994277 * t);
-        X0 += 0.00000001088 * Math.cos(2.67619018542 + 2630.2955782083 * t);
-        X0 += 0.00000001017 * Math.cos(2.29943441333 + 1939.2449561898 * t);
-        X0 += 0.00000001236 * Math.cos(0.30370190103 + 761.7400086283 * t);
-        X0 += 0.00000001236 * Math.cos(4.02922968721 + 2943.5060541272 * t);
-        X0 += 0.00000001321 * Math.cos(4.43670480817 + 323.2447842265 * t);
-        X0 += 0.00000001279 * Math.cos(3.51604975387 + 223.1209554245 * t);
-        X0 += 0.00000001279 * Math.cos(4.51516906631 + 203.4772354515 * t);
-        X0 += 0.00000001018 * Math.cos(2.91596221445 + 640.6480458394 * t);
-        X0 += 0.00000001010 * Math.cos(2.70311043178 + 3914.0223040994 * t);
-        X0 += 0.00000001105 * Math.cos(1.98193872719 + 369.0820676961 * t);
-        X0 += 0.00000001015 * Math.cos(3.09583830139 + 411.0990724872 * t);
-        X0 += 0.00000001113 * Math.cos(3.02325708016 + 523.5406259403 * t);
-        X0 += 0.00000001008 * Math.cos(4.30745009184 + 102.8321417877 * t);
-        X0 += 0.00000001023 * Math.cos(1.30830385679 + 608.2446582306 * t);
-        X0 += 0.00000001014 * Math.cos(0.02522068638 + 121.8427223143 * t);
-        X0 += 0.00000001246 * Math.cos(5.68903950855 + 758.7710632117 * t);
-        X0 += 0.00000001018 * Math.cos(4.91714410657 + 6247.5131155228 * t);
-        X0 += 0.00000001109 * Math.cos(1.66575096659 + 1397.7051416792 * t);
-        X0 += 0.00000001195 * Math.cos(4.77748966530 + 47.061123747 * t);
-        X0 += 0.00000000987 * Math.cos(2.64810111086 + 968.1380053866 * t);
-        X0 += 0.00000001353 * Math.cos(0.16753327985 + 598.8434893694 * t);
-        X0 += 0.00000001216 * Math.cos(6.15221306348 + 9367.2027114598 * t);
-        X0 += 0.00000001253 * Math.cos(4.46392704390 + 5867.5233593793 * t);
-        X0 += 0.00000001069 * Math.cos(4.67913892913 + 6217.6310719126 * t);
-        X0 += 0.00000001317 * Math.cos(3.83858558776 + 260.360219185 * t);
-        X0 += 0.00000001264 * Math.cos(0.68934669984 + 1681.1199692385 * t);
-        X0 += 0.00000001072 * Math.cos(5.14135047926 + 582.3811631341 * t);
-        X0 += 0.00000001160 * Math.cos(6.23718760445 + 152.7445908723 * t);
-        X0 += 0.00000001105 * Math.cos(0.38728165518 + 661.0949149645 * t);
-        X0 += 0.00000001008 * Math.cos(0.43311135773 + 304.1223291153 * t);
-        X0 += 0.00000001200 * Math.cos(3.09836953470 + 528.4671248172 * t);
-        X0 += 0.00000001361 * Math.cos(0.25316006676 + 1439.5096981492 * t);
-        X0 += 0.00000000973 * Math.cos(3.93273625700 + 173.1390703707 * t);
-        X0 += 0.00000000985 * Math.cos(5.37328572434 + 1012.9115072732 * t);
-        X0 += 0.00000001105 * Math.cos(1.14919741381 + 199.1201855462 * t);
-        X0 += 0.00000001105 * Math.cos(0.59883609919 + 227.4780053298 * t);
-        X0 += 0.00000000991 * Math.cos(1.52113636912 + 331.3697231836 * t);
-        X0 += 0.00000001226 * Math.cos(3.94496586095 + 1973.1328165069 * t);
-        X0 += 0.00000000958 * Math.cos(1.97392157680 + 1791.3262904579 * t);
-        X0 += 0.00000001185 * Math.cos(2.30984449641 + 772.9981572133 * t);
-        X0 += 0.00000000975 * Math.cos(5.20361164972 + 2225.7887878601 * t);
-        X0 += 0.00000001221 * Math.cos(3.21085670371 + 775.9671026299 * t);
-        X0 += 0.00000000982 * Math.cos(6.03742794907 + 1269.4996318895 * t);
-        X0 += 0.00000001224 * Math.cos(2.82053624385 + 25344.9130810416 * t);
-        X0 += 0.00000001026 * Math.cos(1.03328449858 + 599.6466385215 * t);
-        X0 += 0.00000001207 * Math.cos(4.61076899661 + 2597.6223661672 * t);
-        X0 += 0.00000000992 * Math.cos(1.52833966963 + 726.3152859762 * t);
-        X0 += 0.00000000950 * Math.cos(2.91384578758 + 568.2970814844 * t);
-        X0 += 0.00000001045 * Math.cos(1.71934810271 + 447.7958195265 * t);
-        X0 += 0.00000000958 * Math.cos(4.13745803808 + 711.4974911436 * t);
-        X0 += 0.00000001220 * Math.cos(4.63275786827 + 1458.472094566 * t);
-        X0 += 0.00000000973 * Math.cos(0.18291286905 + 1333.2355301929 * t);
-        X0 += 0.00000001070 * Math.cos(3.54513482526 + 1471.0022675382 * t);
-        X0 += 0.00000001155 * Math.cos(1.80067980448 + 308.5275631304 * t);
-        X0 += 0.00000000968 * Math.cos(4.70982562087 + 394.9455627926 * t);
-        X0 += 0.00000001023 * Math.cos(2.72566495465 + 522.529233984 * t);
-        X0 += 0.00000001271 * Math.cos(4.63428894734 + 25771.5112719176 * t);
-        X0 += 0.00000001128 * Math.cos(4.76771165311 + 1459.9565672743 * t);
-        X0 += 0.00000001214 * Math.cos(6.08146614200 + 1190.7858800591 * t);
-        X0 += 0.00000001056 * Math.cos(2.41421618519 + 62.038977274 * t);
-        X0 += 0.00000001211 * Math.cos(0.07105082597 + 874.3940104025 * t);
-        X0 += 0.00000001069 * Math.cos(3.21597034495 + 384.2723695442 * t);
-        X0 += 0.00000000928 * Math.cos(1.98032917141 + 689.6185389369 * t);
-        X0 += 0.00000000927 * Math.cos(6.25845040638 + 6327.837393132 * t);
-        X0 += 0.00000001157 * Math.cos(1.32901172925 + 1374.1292684431 * t);
-        X0 += 0.00000001221 * Math.cos(6.07809765786 + 473.068613792 * t);
-        X0 += 0.00000000945 * Math.cos(0.09123943360 + 838.218528225 * t);
-        X0 += 0.00000000936 * Math.cos(2.17363842403 + 321.808495628 * t);
-        X0 += 0.00000000989 * Math.cos(0.87301593506 + 557.0389328994 * t);
-        X0 += 0.00000000943 * Math.cos(2.69427894222 + 1875.5090578864 * t);
-        X0 += 0.00000001172 * Math.cos(5.88736315639 + 9797.7330555989 * t);
-        X0 += 0.00000001048 * Math.cos(3.73168805028 + 4429.4861751924 * t);
-        X0 += 0.00000001071 * Math.cos(1.11073151974 + 781.5961769224 * t);
-        X0 += 0.00000000918 * Math.cos(2.63844409234 + 385.7568422525 * t);
-        X0 += 0.00000001082 * Math.cos(5.24996549702 + 2151.0071892928 * t);
-        X0 += 0.00000000993 * Math.cos(6.01306916289 + 1396.2206689709 * t);
-        X0 += 0.00000001056 * Math.cos(1.31804101541 + 3707.8367556622 * t);
-        X0 += 0.00000000971 * Math.cos(2.88611794550 + 3281.2385647862 * t);
-        X0 += 0.00000001138 * Math.cos(5.00068840720 + 5845.4319588515 * t);
-        X0 += 0.00000000920 * Math.cos(3.60988608759 + 632.0329797878 * t);
-        X0 += 0.00000001142 * Math.cos(0.14819030385 + 1987.2168981566 * t);
-        X0 += 0.00000000970 * Math.cos(4.59382496601 + 866.5297038763 * t);
-        X0 += 0.00000001185 * Math.cos(5.68033788821 + 10846.0692855242 * t);
-        X0 += 0.00000001115 * Math.cos(1.35005478930 + 1079.8287993143 * t);
-        X0 += 0.00000000909 * Math.cos(4.51062672335 + 311.7260032106 * t);
-        X0 += 0.00000001060 * Math.cos(1.32259506046 + 2520.0892569889 * t);
-        X0 += 0.00000000931 * Math.cos(6.04606689039 + 3906.9087570986 * t);
-        X0 += 0.00000001058 * Math.cos(3.29946281633 + 613.8737325231 * t);
-        X0 += 0.00000001142 * Math.cos(5.20625047920 + 906.849787638 * t);
-        X0 += 0.00000000952 * Math.cos(4.74695156387 + 3569.1762464396 * t);
-        X0 += 0.00000000899 * Math.cos(0.95311796470 + 605.9570363702 * t);
-        X0 += 0.00000001259 * Math.cos(2.56978534873 + 5333.9002410216 * t);
-        X0 += 0.00000000922 * Math.cos(4.85082110018 + 401.5378449316 * t);
-        X0 += 0.00000001212 * Math.cos(5.83888920317 + 941.3113024436 * t);
-        X0 += 0.00000001018 * Math.cos(2.31116440407 + 3700.7232086614 * t);
-        X0 += 0.00000000896 * Math.cos(2.50724358689 + 981.4189378842 * t);
-        X0 += 0.00000000899 * Math.cos(5.16361191839 + 420.2354034006 * t);
-        X0 += 0.00000001039 * Math.cos(5.09352612368 + 68.1893164283 * t);
-        X0 += 0.00000000960 * Math.cos(2.47416590676 + 1197.8994270599 * t);
-        X0 += 0.00000001015 * Math.cos(1.64026122587 + 714.5358725294 * t);
-        X0 += 0.00000001108 * Math.cos(6.09598657011 + 1259.1876448085 * t);
-        X0 += 0.00000001035 * Math.cos(1.50974146504 + 6261.7402095244 * t);
-        X0 += 0.00000000889 * Math.cos(4.18410664752 + 2306.7901615509 * t);
-        X0 += 0.00000001195 * Math.cos(6.15877891933 + 1152.1797636693 * t);
-        X0 += 0.00000000931 * Math.cos(4.56496644687 + 529.57909051 * t);
-        X0 += 0.00000000901 * Math.cos(4.11178501419 + 1127.0499817557 * t);
-        X0 += 0.00000000962 * Math.cos(4.91687121920 + 1759.8337210689 * t);
-        X0 += 0.00000000905 * Math.cos(5.08337481428 + 795.6802585721 * t);
-        X0 += 0.00000001088 * Math.cos(3.10692546135 + 2332.0629558164 * t);
-        X0 += 0.00000001148 * Math.cos(1.83262877540 + 979.1837056505 * t);
-        X0 += 0.00000001021 * Math.cos(2.83249057863 + 524.0618908021 * t);
-        X0 += 0.00000001063 * Math.cos(1.80742459506 + 921.0768816396 * t);
-        X0 += 0.00000000962 * Math.cos(1.78033887272 + 770.3380283374 * t);
-        X0 += 0.00000000962 * Math.cos(0.62986061526 + 988.532484885 * t);
-        X0 += 0.00000000920 * Math.cos(4.60070286678 + 802.7938055729 * t);
-        X0 += 0.00000001054 * Math.cos(0.18348909645 + 1304.9243545416 * t);
-        X0 += 0.00000001179 * Math.cos(5.56983461950 + 260.9933586314 * t);
-        X0 += 0.00000000871 * Math.cos(1.92755623364 + 102.9327155242 * t);
-        X0 += 0.00000000902 * Math.cos(6.00832963626 + 1407.2663692348 * t);
-        X0 += 0.00000000970 * Math.cos(0.92586021521 + 51322.60990139639 * t);
-        X0 += 0.00000000870 * Math.cos(5.19974857867 + 103.252832913 * t);
-        X0 += 0.00000000952 * Math.cos(4.49527687251 + 1527.6246188408 * t);
-        X0 += 0.00000000977 * Math.cos(1.89516214334 + 273.8536000037 * t);
-        X0 += 0.00000000868 * Math.cos(5.21672394772 + 4539.6924964118 * t);
-        X0 += 0.00000001016 * Math.cos(1.81276666100 + 1332.4847706675 * t);
-        X0 += 0.00000000939 * Math.cos(4.72160653425 + 12573.2652469836 * t);
-        X0 += 0.00000000900 * Math.cos(2.85261484611 + 1022.3126761344 * t);
-        X0 += 0.00000000867 * Math.cos(2.01961476477 + 449.4927405559 * t);
-        X0 += 0.00000001116 * Math.cos(0.91462209636 + 947.5310775671 * t);
-        X0 += 0.00000000861 * Math.cos(2.84568601373 + 1095.6098019934 * t);
-        X0 += 0.00000001151 * Math.cos(1.92157822238 + 775.4458377681 * t);
-        X0 += 0.00000001081 * Math.cos(1.05451600776 + 316.9131345184 * t);
-        X0 += 0.00000000889 * Math.cos(2.78855806552 + 5158.2491417234 * t);
-        X0 += 0.00000000952 * Math.cos(1.24922940161 + 52168.69273614759 * t);
-        X0 += 0.00000000892 * Math.cos(0.51409333559 + 663.8032279502 * t);
-        X0 += 0.00000001064 * Math.cos(0.14095547310 + 9775.6416550711 * t);
-        X0 += 0.00000000924 * Math.cos(4.69074368530 + 1072.7152523135 * t);
-        X0 += 0.00000000996 * Math.cos(1.13833884977 + 1329.3033769298 * t);
-        X0 += 0.00000000852 * Math.cos(6.16458473082 + 4760.1051388506 * t);
-        X0 += 0.00000000878 * Math.cos(1.53529061972 + 166.237971691 * t);
-        X0 += 0.00000000940 * Math.cos(1.91139473998 + 4216.1870797544 * t);
-        X0 += 0.00000000880 * Math.cos(3.09735397949 + 303.8616966844 * t);
-        X0 += 0.00000000884 * Math.cos(0.90715778768 + 1336.4169239306 * t);
-        X0 += 0.00000000960 * Math.cos(0.24584342277 + 5842.2505651138 * t);
-        X0 += 0.00000000859 * Math.cos(2.62627633564 + 1886.5547581503 * t);
-        X0 += 0.00000001090 * Math.cos(0.95231319440 + 738.3241940866 * t);
-        X0 += 0.00000001176 * Math.cos(0.64353107931 + 4752.9915918498 * t);
-        X0 += 0.00000000853 * Math.cos(4.46091624833 + 1241.1884562382 * t);
-        X0 += 0.00000001107 * Math.cos(5.37901208764 + 2442.2692770358 * t);
-        X0 += 0.00000000938 * Math.cos(0.30415708562 + 600.5404103988 * t);
-        X0 += 0.00000000858 * Math.cos(0.41063008749 + 1035.002907801 * t);
-        X0 += 0.00000000945 * Math.cos(2.21798974127 + 2107.7181601145 * t);
-        X0 += 0.00000000928 * Math.cos(2.03804472509 + 97.4636999261 * t);
-        X0 += 0.00000000842 * Math.cos(5.63606603103 + 4642.7852706304 * t);
-        X0 += 0.00000000845 * Math.cos(1.52209182104 + 803.5445650983 * t);
-        X0 += 0.00000001161 * Math.cos(0.64813941640 + 987.7817253596 * t);
-        X0 += 0.00000000959 * Math.cos(2.94700989070 + 249.6870259366 * t);
-        X0 += 0.00000000959 * Math.cos(1.94261627589 + 176.9111649394 * t);
-        X0 += 0.00000000835 * Math.cos(5.27426036188 + 960.0612505393 * t);
-        X0 += 0.00000000844 * Math.cos(4.26705563875 + 3494.5376602242 * t);
-        X0 += 0.00000000843 * Math.cos(4.69679538916 + 248.4631856592 * t);
-        X0 += 0.00000000843 * Math.cos(0.19283077743 + 178.1350052168 * t);
-        X0 += 0.00000001023 * Math.cos(3.54777631899 + 1054.7160637432 * t);
-        X0 += 0.00000000870 * Math.cos(1.97309067523 + 1467.8208738005 * t);
-        X0 += 0.00000001010 * Math.cos(3.19322573273 + 1186.853726796 * t);
-        X0 += 0.00000000957 * Math.cos(2.63832021608 + 10529.6774158676 * t);
-        X0 += 0.00000000900 * Math.cos(1.80738429411 + 5901.239202256 * t);
-        X0 += 0.00000000941 * Math.cos(2.82789997881 + 944.9828232758 * t);
-        X0 += 0.00000000865 * Math.cos(2.70960324100 + 1535.488925367 * t);
-        X0 += 0.00000001067 * Math.cos(6.03658788356 + 1055.1891444952 * t);
-        X0 += 0.00000000945 * Math.cos(1.49743453294 + 829.6205085159 * t);
-        X0 += 0.00000000912 * Math.cos(1.39416845682 + 832.5894539325 * t);
-        X0 += 0.00000001146 * Math.cos(2.60438294372 + 982.1526510671 * t);
-        X0 += 0.00000000812 * Math.cos(5.30598958988 + 20007.0864485468 * t);
-        X0 += 0.00000000927 * Math.cos(5.76929068640 + 204.91352405 * t);
-        X0 += 0.00000000927 * Math.cos(2.26192813378 + 221.684666826 * t);
-        X0 += 0.00000001028 * Math.cos(0.68506380971 + 622.4887985747 * t);
-        X0 += 0.00000000827 * Math.cos(3.54375341653 + 3679.382567659 * t);
-        X0 += 0.00000001020 * Math.cos(0.81327138026 + 664.0156762713 * t);
-        X0 += 0.00000001093 * Math.cos(0.95182537662 + 26404.2950112308 * t);
-        X0 += 0.00000000920 * Math.cos(3.29194805293 + 1460.7073267997 * t);
-        X0 += 0.00000000867 * Math.cos(0.75858082011 + 155.1922714271 * t);
-        X0 += 0.00000000821 * Math.cos(5.37814660681 + 9470.2954856784 * t);
-        X0 += 0.00000001078 * Math.cos(5.29413317260 + 902.9176343749 * t);
-        X0 += 0.00000000857 * Math.cos(5.49673781780 + 63.847772888 * t);
-        X0 += 0.00000000798 * Math.cos(2.46893889261 + 437.9045235708 * t);
-        X0 += 0.00000000791 * Math.cos(3.96600713625 + 529.6427809848 * t);
-        X0 += 0.00000000866 * Math.cos(5.20338687906 + 1784.9635029825 * t);
-        X0 += 0.00000000788 * Math.cos(1.83026001861 + 683.0262567979 * t);
-        X0 += 0.00000000788 * Math.cos(4.89679068215 + 938.1299087059 * t);
-        X0 += 0.00000000803 * Math.cos(2.43017686726 + 19992.85935454519 * t);
-        X0 += 0.00000000972 * Math.cos(3.39781775284 + 1858.9943420244 * t);
-        X0 += 0.00000000870 * Math.cos(6.20285766706 + 401.3253966105 * t);
-        X0 += 0.00000000783 * Math.cos(5.18616462930 + 841.4169683052 * t);
-        X0 += 0.00000000950 * Math.cos(4.19698244286 + 507.5995645668 * t);
-        X0 += 0.00000000972 * Math.cos(3.15612005468 + 892.5532576672 * t);
-        X0 += 0.00000000792 * Math.cos(4.70710210429 + 823.9914342234 * t);
-        X0 += 0.00000000926 * Math.cos(4.87407778306 + 1025.4416802454 * t);
-        X0 += 0.00000000929 * Math.cos(3.24203444555 + 517.1607921224 * t);
-        X0 += 0.00000001020 * Math.cos(3.91362880983 + 103.2046488032 * t);
-        X0 += 0.00000001094 * Math.cos(4.65159397422 + 2623.1820312075 * t);
-        X0 += 0.00000001092 * Math.cos(0.51760698110 + 938.8806682313 * t);
-        X0 += 0.00000000872 * Math.cos(2.51553129794 + 63.6240237188 * t);
-        X0 += 0.00000000995 * Math.cos(4.28573964440 + 1120.148883076 * t);
-        X0 += 0.00000001013 * Math.cos(5.43396560078 + 810.6581120991 * t);
-        X0 += 0.00000000809 * Math.cos(6.27924207458 + 1371.8416465827 * t);
-        X0 += 0.00000000792 * Math.cos(5.83029978253 + 746.1714542703 * t);
-        X0 += 0.00000001085 * Math.cos(2.59537042479 + 592.2030231206 * t);
-        X0 += 0.00000000888 * Math.cos(3.27135586321 + 26514.5013324502 * t);
-        X0 += 0.00000001055 * Math.cos(4.03982380142 + 7232.2514589612 * t);
-        X0 += 0.00000000781 * Math.cos(1.96140425782 + 4546.8060434126 * t);
-        X0 += 0.00000000799 * Math.cos(4.48492473652 + 2843.5946736463 * t);
-        X0 += 0.00000000776 * Math.cos(2.77204567287 + 494.4786907636 * t);
-        X0 += 0.00000000936 * Math.cos(0.36703047310 + 480.251596762 * t);
-        X0 += 0.00000000893 * Math.cos(3.82920318115 + 957.0923051227 * t);
-        X0 += 0.00000000777 * Math.cos(4.95951789220 + 1031.87390369 * t);
-        X0 += 0.00000000940 * Math.cos(0.40461452564 + 2313.9037085517 * t);
-        X0 += 0.00000000824 * Math.cos(1.65904903943 + 547.8502123593 * t);
-        X0 += 0.00000000910 * Math.cos(4.93700135135 + 2406.7015420318 * t);
-        X0 += 0.00000001027 * Math.cos(2.73485817904 + 3657.0042963564 * t);
-        X0 += 0.00000000768 * Math.cos(3.19841476084 + 845.3320752258 * t);
-        X0 += 0.00000000866 * Math.cos(3.55153634231 + 1293.8786542777 * t);
-        X0 += 0.00000000998 * Math.cos(5.44535986140 + 11.7794134468 * t);
-        X0 += 0.00000000801 * Math.cos(0.27112028533 + 475.3562356524 * t);
-        X0 += 0.00000000766 * Math.cos(6.03832107377 + 2439.0878832981 * t);
-        X0 += 0.00000001050 * Math.cos(0.63919198126 + 332.1728723357 * t);
-        X0 += 0.00000000833 * Math.cos(4.78190863299 + 1681.8707287639 * t);
-        X0 += 0.00000000769 * Math.cos(4.30003410596 + 1052.2201990786 * t);
-        X0 += 0.00000000970 * Math.cos(4.44489541225 + 527.2432845398 * t);
-        X0 += 0.00000000776 * Math.cos(4.35685988911 + 2014.0265547571 * t);
-        X0 += 0.00000001002 * Math.cos(4.18369718646 + 52182.9198301492 * t);
-        X0 += 0.00000000973 * Math.cos(5.48778736129 + 518.9058972616 * t);
-        X0 += 0.00000000829 * Math.cos(1.94484304027 + 595.7144852584 * t);
-        X0 += 0.00000000839 * Math.cos(0.93530391094 + 13362.4497067992 * t);
-        X0 += 0.00000000874 * Math.cos(1.04026539094 + 493.5154829171 * t);
-        X0 += 0.00000001022 * Math.cos(5.81953700429 + 812.1425848074 * t);
-        X0 += 0.00000000754 * Math.cos(4.26857382429 + 735.9246976416 * t);
-        X0 += 0.00000000788 * Math.cos(0.86378191468 + 1408.0171287602 * t);
-        X0 += 0.00000000786 * Math.cos(4.39939203294 + 1053.2315910349 * t);
-        X0 += 0.00000000899 * Math.cos(5.38123051458 + 931.0163617051 * t);
-        X0 += 0.00000000768 * Math.cos(1.54323874502 + 6058.7310542895 * t);
-        X0 += 0.00000000830 * Math.cos(4.02252856771 + 821.5437536686 * t);
-        X0 += 0.00000000831 * Math.cos(0.77280313250 + 436.6324991836 * t);
-        X0 += 0.00000000934 * Math.cos(1.59834418987 + 1300.9922012785 * t);
-        X0 += 0.00000000757 * Math.cos(4.23078199908 + 5495.9816523824 * t);
-        X0 += 0.00000000802 * Math.cos(4.24211624809 + 1386.6594414153 * t);
-        X0 += 0.00000000949 * Math.cos(0.86426366309 + 10007.0999977738 * t);
-        X0 += 0.00000000805 * Math.cos(1.91700034886 + 580.0935412737 * t);
-        X0 += 0.00000000940 * Math.cos(2.94283899053 + 461.7622810972 * t);
-        X0 += 0.00000000881 * Math.cos(5.46197017645 + 269.1706872152 * t);
-        X0 += 0.00000000881 * Math.cos(5.71084129732 + 157.4275036608 * t);
-        X0 += 0.00000000789 * Math.cos(2.80405308992 + 678.0303219518 * t);
-        X0 += 0.00000000766 * Math.cos(0.01680401049 + 1235.6117715724 * t);
-        X0 += 0.00000000767 * Math.cos(2.96617646777 + 2093.4910661129 * t);
-        X0 += 0.00000000868 * Math.cos(0.13582660748 + 1016.8436605363 * t);
-        X0 += 0.00000000755 * Math.cos(1.33774449782 + 188.2387494936 * t);
-        X0 += 0.00000000965 * Math.cos(2.40006592137 + 1674.0064222377 * t);
-        X0 += 0.00000000728 * Math.cos(0.99359722955 + 1052.3165672982 * t);
-        X0 += 0.00000000840 * Math.cos(0.88655149235 + 1051.3051753419 * t);
-        X0 += 0.00000000726 * Math.cos(2.32238512009 + 545.4719677737 * t);
-        X0 += 0.00000000725 * Math.cos(4.18151409048 + 995.6460318858 * t);
-        X0 += 0.00000000819 * Math.cos(2.37855017768 + 665.0270682276 * t);
-        X0 += 0.00000000815 * Math.cos(4.11376340797 + 699.1797664925 * t);
-        X0 += 0.00000000748 * Math.cos(5.94369910761 + 10632.7701900862 * t);
-        X0 += 0.00000000860 * Math.cos(3.40471766460 + 473.659314623 * t);
-        X0 += 0.00000000742 * Math.cos(4.71775024033 + 740.2817475469 * t);
-        X0 += 0.00000000917 * Math.cos(1.78759198509 + 12559.038152982 * t);
-        X0 += 0.00000000768 * Math.cos(2.28792148219 + 1310.3933701397 * t);
-        X0 += 0.00000000989 * Math.cos(5.46273130551 + 11162.4611551808 * t);
-        X0 += 0.00000000743 * Math.cos(5.02549550327 + 1087.6931058405 * t);
-        X0 += 0.00000000719 * Math.cos(1.19467319531 + 1736.9915610157 * t);
-        X0 += 0.00000000775 * Math.cos(1.68635949381 + 1703.2113697663 * t);
-        X0 += 0.00000000719 * Math.cos(6.27712089125 + 103711.71527998279 * t);
-        X0 += 0.00000000783 * Math.cos(5.04624349752 + 962.5089310941 * t);
-        X0 += 0.00000000785 * Math.cos(5.38854066042 + 1317.5069171405 * t);
-        X0 += 0.00000000976 * Math.cos(3.25056793677 + 870.4618571394 * t);
-        X0 += 0.00000000851 * Math.cos(4.56667936071 + 3466.083472221 * t);
-        X0 += 0.00000000935 * Math.cos(2.03746699681 + 841.8900490572 * t);
-        X0 += 0.00000001009 * Math.cos(2.30316838782 + 1126.2992222303 * t);
-        X0 += 0.00000000795 * Math.cos(0.87874818131 + 529.7391492044 * t);
-        X0 += 0.00000000729 * Math.cos(3.08855858649 + 1649.6273998495 * t);
-        X0 += 0.00000000729 * Math.cos(6.13104106223 + 951.4632308302 * t);
-        X0 += 0.00000000714 * Math.cos(3.87054311946 + 1175.8080265321 * t);
-        X0 += 0.00000000870 * Math.cos(4.71802760819 + 749.2098356561 * t);
-        X0 += 0.00000000884 * Math.cos(2.18888540145 + 655.4176565622 * t);
-        X0 += 0.00000000749 * Math.cos(3.86728999613 + 785.5283301855 * t);
-        X0 += 0.00000000719 * Math.cos(1.08144155753 + 467.4395394995 * t);
-        X0 += 0.00000000708 * Math.cos(4.72118340243 + 2431.2235767719 * t);
-        X0 += 0.00000000737 * Math.cos(2.08501060156 + 521.6142102473 * t);
-        X0 += 0.00000000824 * Math.cos(0.35270933491 + 1163.4379122543 * t);
-        X0 += 0.00000000720 * Math.cos(1.80911156979 + 255.6249167698 * t);
-        X0 += 0.00000000800 * Math.cos(0.28363303165 + 147.1155165798 * t);
-        X0 += 0.00000000800 * Math.cos(4.60599313494 + 279.4826742962 * t);
-        X0 += 0.00000000793 * Math.cos(0.44341701999 + 951.6232895246 * t);
-        X0 += 0.00000000974 * Math.cos(0.50255279262 + 1997.5118388951 * t);
-        X0 += 0.00000000926 * Math.cos(3.38675142586 + 9896.8936765544 * t);
-        X0 += 0.00000000807 * Math.cos(5.15433117145 + 688.6553310904 * t);
-        X0 += 0.00000000718 * Math.cos(2.96669004947 + 9988.9407505091 * t);
-        X0 += 0.00000000696 * Math.cos(3.17155112876 + 2254.0999635114 * t);
-        X0 += 0.00000000891 * Math.cos(5.13469375619 + 669.6447505638 * t);
-        X0 += 0.00000000944 * Math.cos(1.61465906231 + 2748.3662059539 * t);
-        X0 += 0.00000000783 * Math.cos(1.34403255618 + 227.0049245778 * t);
-        X0 += 0.00000000783 * Math.cos(0.40400095682 + 199.5932662982 * t);
-        X0 += 0.00000000728 * Math.cos(2.30992648354 + 839.1817360715 * t);
-        X0 += 0.00000000698 * Math.cos(3.25603591732 + 498.1983957056 * t);
-        X0 += 0.00000000703 * Math.cos(1.55460321889 + 5654.2242639413 * t);
-        X0 += 0.00000000717 * Math.cos(4.55237879181 + 6702.5604938666 * t);
-        X0 += 0.00000000736 * Math.cos(1.20028593415 + 403.7036411961 * t);
-        X0 += 0.00000000701 * Math.cos(4.58273199053 + 4326.3934009738 * t);
-        X0 += 0.00000000699 * Math.cos(5.34077680752 + 725.5815727933 * t);
-        X0 += 0.00000000684 * Math.cos(4.81758588915 + 6062.6632075526 * t);
-        X0 += 0.00000000685 * Math.cos(5.86089797553 + 455.0523788792 * t);
-        X0 += 0.00000000792 * Math.cos(1.62306361946 + 5422.7659212386 * t);
-        X0 += 0.00000000687 * Math.cos(5.43360628922 + 103.843533744 * t);
-        X0 += 0.00000000837 * Math.cos(5.42290928791 + 570.5323137181 * t);
-        X0 += 0.00000000681 * Math.cos(4.97089069344 + 605.275712814 * t);
-        X0 += 0.00000000752 * Math.cos(2.13635874110 + 413.1048100573 * t);
-        X0 += 0.00000000681 * Math.cos(2.40400472916 + 458.090760265 * t);
-        X0 += 0.00000000815 * Math.cos(1.53292306954 + 391.976617376 * t);
-        X0 += 0.00000000680 * Math.cos(4.14190883039 + 2143.893642292 * t);
-        X0 += 0.00000000744 * Math.cos(0.28747509376 + 457.1969883877 * t);
-        X0 += 0.00000000687 * Math.cos(4.40962225159 + 1563.8001010183 * t);
-        X0 += 0.00000000883 * Math.cos(0.11492592605 + 378.6432952517 * t);
-        X0 += 0.00000000740 * Math.cos(3.78883452039 + 1016.0929010109 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 892 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.07575103962;
-        X1 += 0.03085041716 * Math.cos(4.27565749128 + 426.598190876 * t);
-        X1 += 0.02714918399 * Math.cos(5.85229412397 + 206.1855484372 * t);
-        X1 += 0.02643100909 * Math.cos(5.33291950584 + 220.4126424388 * t);
-        X1 += 0.00627104520 * Math.cos(0.32898307969 + 7.1135470008 * t);
-        X1 += 0.00256560953 * Math.cos(3.52478934343 + 639.897286314 * t);
-        X1 += 0.00312356512 * Math.cos(4.83001724941 + 419.4846438752 * t);
-        X1 += 0.00189196274 * Math.cos(4.48642453552 + 433.7117378768 * t);
-        X1 += 0.00203646570 * Math.cos(1.10998681782 + 213.299095438 * t);
-        X1 += 0.00119531145 * Math.cos(1.14735096078 + 110.2063212194 * t);
-        X1 += 0.00066764238 * Math.cos(3.72346596928 + 316.3918696566 * t);
-        X1 += 0.00066901225 * Math.cos(5.20257500380 + 227.5261894396 * t);
-        X1 += 0.00031000840 * Math.cos(6.06067919437 + 199.0720014364 * t);
-        X1 += 0.00030418100 * Math.cos(0.18746903351 + 14.2270940016 * t);
-        X1 += 0.00022275210 * Math.cos(6.19530878014 + 103.0927742186 * t);
-        X1 += 0.00018939377 * Math.cos(2.77618306725 + 853.196381752 * t);
-        X1 += 0.00018093009 * Math.cos(5.09162723865 + 209.3669421749 * t);
-        X1 += 0.00017777854 * Math.cos(6.10381593351 + 217.2312487011 * t);
-        X1 += 0.00016296201 * Math.cos(4.86945681437 + 216.4804891757 * t);
-        X1 += 0.00017120250 * Math.cos(4.59611664188 + 632.7837393132 * t);
-        X1 += 0.00015894491 * Math.cos(0.03653502304 + 210.1177017003 * t);
-        X1 += 0.00016192653 * Math.cos(5.60798014450 + 323.5054166574 * t);
-        X1 += 0.00014466010 * Math.cos(3.67449380090 + 647.0108333148 * t);
-        X1 += 0.00011061528 * Math.cos(0.03163071461 + 117.3198682202 * t);
-        X1 += 0.00009873183 * Math.cos(5.20065307357 + 202.2533951741 * t);
-        X1 += 0.00008707608 * Math.cos(6.03511731637 + 224.3447957019 * t);
-        X1 += 0.00005499109 * Math.cos(4.40350603415 + 440.8252848776 * t);
-        X1 += 0.00005512222 * Math.cos(2.60556642348 + 11.0457002639 * t);
-        X1 += 0.00004008257 * Math.cos(1.48942966807 + 522.5774180938 * t);
-        X1 += 0.00003571196 * Math.cos(5.10821908379 + 412.3710968744 * t);
-        X1 += 0.00002731381 * Math.cos(4.10892223660 + 149.5631971346 * t);
-        X1 += 0.00002763786 * Math.cos(3.96253590209 + 95.9792272178 * t);
-        X1 += 0.00001875862 * Math.cos(2.52384080586 + 3.9321532631 * t);
-        X1 += 0.00001765816 * Math.cos(0.75684544353 + 277.0349937414 * t);
-        X1 += 0.00001688957 * Math.cos(3.98270950731 + 422.6660376129 * t);
-        X1 += 0.00001544787 * Math.cos(5.30283923836 + 330.6189636582 * t);
-        X1 += 0.00001449143 * Math.cos(6.26507179861 + 529.6909650946 * t);
-        X1 += 0.00001395551 * Math.cos(2.03533642541 + 1066.49547719 * t);
-        X1 += 0.00001330413 * Math.cos(5.06312203212 + 234.6397364404 * t);
-        X1 += 0.00001511648 * Math.cos(6.23274598777 + 3.1813937377 * t);
-        X1 += 0.00001271050 * Math.cos(2.40338468675 + 415.5524906121 * t);
-        X1 += 0.00001171680 * Math.cos(4.59341412127 + 536.8045120954 * t);
-        X1 += 0.00001129056 * Math.cos(5.45794529295 + 423.4167971383 * t);
-        X1 += 0.00001126400 * Math.cos(2.88173213734 + 860.3099287528 * t);
-        X1 += 0.00001101245 * Math.cos(4.07698108824 + 429.7795846137 * t);
-        X1 += 0.00001273315 * Math.cos(0.09572429396 + 742.9900605326 * t);
-        X1 += 0.00001342277 * Math.cos(2.98929557875 + 210.8514148832 * t);
-        X1 += 0.00001331045 * Math.cos(1.90899526877 + 215.7467759928 * t);
-        X1 += 0.00000959849 * Math.cos(0.92675530269 + 838.9692877504 * t);
-        X1 += 0.00000961568 * Math.cos(4.48936457741 + 846.0828347512 * t);
-        X1 += 0.00000882604 * Math.cos(5.41464304432 + 437.6438911399 * t);
-        X1 += 0.00000926410 * Math.cos(1.35857315584 + 625.6701923124 * t);
-        X1 += 0.00000820497 * Math.cos(4.74555084219 + 223.5940361765 * t);
-        X1 += 0.00000767156 * Math.cos(6.23090265966 + 1059.3819301892 * t);
-        X1 += 0.00000811096 * Math.cos(0.03213863705 + 21.3406410024 * t);
-        X1 += 0.00000718572 * Math.cos(6.12727675623 + 430.5303441391 * t);
-        X1 += 0.00000625842 * Math.cos(3.88265851906 + 88.865680217 * t);
-        X1 += 0.00000608389 * Math.cos(2.50870660945 + 309.2783226558 * t);
-        X1 += 0.00000551394 * Math.cos(1.55261956835 + 515.463871093 * t);
-        X1 += 0.00000596169 * Math.cos(5.09975163823 + 124.433415221 * t);
-        X1 += 0.00000472201 * Math.cos(3.60914985488 + 654.1243803156 * t);
-        X1 += 0.00000465734 * Math.cos(0.21394106678 + 203.0041546995 * t);
-        X1 += 0.00000456065 * Math.cos(1.11956024618 + 735.8765135318 * t);
-        X1 += 0.00000401729 * Math.cos(4.42679334519 + 85.8272988312 * t);
-        X1 += 0.00000376922 * Math.cos(3.71246802705 + 76.2660712756 * t);
-        X1 += 0.00000339360 * Math.cos(0.74274349867 + 1155.361157407 * t);
-        X1 += 0.00000340385 * Math.cos(1.78611648518 + 302.164775655 * t);
-        X1 += 0.00000323376 * Math.cos(0.09844912589 + 191.9584544356 * t);
-        X1 += 0.00000339649 * Math.cos(2.73823062550 + 217.964961884 * t);
-        X1 += 0.00000304968 * Math.cos(0.18416896544 + 231.4583427027 * t);
-        X1 += 0.00000314938 * Math.cos(0.28470065322 + 728.762966531 * t);
-        X1 += 0.00000311511 * Math.cos(2.36484349864 + 628.8515860501 * t);
-        X1 += 0.00000311154 * Math.cos(1.91113927732 + 942.062061969 * t);
-        X1 += 0.00000298227 * Math.cos(2.16364374640 + 208.633228992 * t);
-        X1 += 0.00000270658 * Math.cos(2.70265519361 + 288.0806940053 * t);
-        X1 += 0.00000259894 * Math.cos(0.87228358124 + 18.1592472647 * t);
-        X1 += 0.00000334303 * Math.cos(3.07818702918 + 203.7378678824 * t);
-        X1 += 0.00000259515 * Math.cos(6.01660018486 + 10.2949407385 * t);
-        X1 += 0.00000264173 * Math.cos(3.55307126150 + 362.8622925726 * t);
-        X1 += 0.00000290607 * Math.cos(1.81179534417 + 222.8603229936 * t);
-        X1 += 0.00000214859 * Math.cos(6.03196961182 + 207.8824694666 * t);
-        X1 += 0.00000208996 * Math.cos(5.16442120392 + 218.7157214094 * t);
-        X1 += 0.00000208264 * Math.cos(4.40981297916 + 408.4389436113 * t);
-        X1 += 0.00000211170 * Math.cos(2.12698775082 + 138.5174968707 * t);
-        X1 += 0.00000195809 * Math.cos(0.35649768849 + 52.6901980395 * t);
-        X1 += 0.00000190687 * Math.cos(6.22000152508 + 200.7689224658 * t);
-        X1 += 0.00000188529 * Math.cos(0.45283523313 + 340.7708920448 * t);
-        X1 += 0.00000171733 * Math.cos(1.12897848901 + 831.8557407496 * t);
-        X1 += 0.00000170838 * Math.cos(1.17439205178 + 350.3321196004 * t);
-        X1 += 0.00000167203 * Math.cos(5.00292045290 + 225.8292684102 * t);
-        X1 += 0.00000171646 * Math.cos(2.30457163571 + 127.4717966068 * t);
-        X1 += 0.00000177509 * Math.cos(4.94085879824 + 210.3783341312 * t);
-        X1 += 0.00000177688 * Math.cos(6.22097530726 + 216.2198567448 * t);
-        X1 += 0.00000162566 * Math.cos(6.12524634729 + 956.2891559706 * t);
-        X1 += 0.00000212499 * Math.cos(5.39034664048 + 949.1756089698 * t);
-        X1 += 0.00000163339 * Math.cos(1.48827637108 + 195.1398481733 * t);
-        X1 += 0.00000149570 * Math.cos(0.31719520948 + 9.5612275556 * t);
-        X1 += 0.00000177151 * Math.cos(6.26962608163 + 160.6088973985 * t);
-        X1 += 0.00000170347 * Math.cos(2.63698505108 + 207.6700211455 * t);
-        X1 += 0.00000140654 * Math.cos(0.48104293652 + 1471.7530270636 * t);
-        X1 += 0.00000150812 * Math.cos(3.13878111760 + 635.9651330509 * t);
-        X1 += 0.00000136646 * Math.cos(4.51630236837 + 543.9180590962 * t);
-        X1 += 0.00000163889 * Math.cos(2.23920379694 + 218.9281697305 * t);
-        X1 += 0.00000164968 * Math.cos(4.62059482677 + 22.0914005278 * t);
-        X1 += 0.00000145469 * Math.cos(4.63713942585 + 265.9892934775 * t);
-        X1 += 0.00000134755 * Math.cos(3.92461654777 + 750.1036075334 * t);
-        X1 += 0.00000133754 * Math.cos(1.25928209722 + 703.6331846174 * t);
-        X1 += 0.00000152766 * Math.cos(4.26935902156 + 56.6223513026 * t);
-        X1 += 0.00000137507 * Math.cos(1.65880730547 + 1258.4539316256 * t);
-        X1 += 0.00000125541 * Math.cos(4.29077908509 + 447.9388318784 * t);
-        X1 += 0.00000140716 * Math.cos(4.40833694034 + 142.4496501338 * t);
-        X1 += 0.00000146194 * Math.cos(4.20275390128 + 70.8494453042 * t);
-        X1 += 0.00000134558 * Math.cos(0.84258328591 + 490.3340891794 * t);
-        X1 += 0.00000117954 * Math.cos(2.15227719526 + 618.5566453116 * t);
-        X1 += 0.00000106790 * Math.cos(2.74587720126 + 565.1156877467 * t);
-        X1 += 0.00000105456 * Math.cos(3.58458171176 + 209.106309744 * t);
-        X1 += 0.00000123096 * Math.cos(2.84869686434 + 483.2205421786 * t);
-        X1 += 0.00000104216 * Math.cos(1.30367057574 + 217.491881132 * t);
-        X1 += 0.00000108048 * Math.cos(6.25104484742 + 1045.1548361876 * t);
-        X1 += 0.00000103680 * Math.cos(0.13827521003 + 106.2741679563 * t);
-        X1 += 0.00000097995 * Math.cos(1.27230991592 + 1279.794572628 * t);
-        X1 += 0.00000122664 * Math.cos(1.73647954150 + 12.5301729722 * t);
-        X1 += 0.00000107530 * Math.cos(2.04781654923 + 424.1505103212 * t);
-        X1 += 0.00000111568 * Math.cos(3.50500638623 + 269.9214467406 * t);
-        X1 += 0.00000089612 * Math.cos(4.38807864757 + 1265.5674786264 * t);
-        X1 += 0.00000089154 * Math.cos(0.07796367571 + 63.7358983034 * t);
-        X1 += 0.00000088400 * Math.cos(2.09843512158 + 1073.6090241908 * t);
-        X1 += 0.00000084413 * Math.cos(6.17211235651 + 113.3877149571 * t);
-        X1 += 0.00000091967 * Math.cos(2.31043069927 + 497.4476361802 * t);
-        X1 += 0.00000081346 * Math.cos(4.70635118236 + 650.9429865779 * t);
-        X1 += 0.00000082303 * Math.cos(3.28548782545 + 643.0786800517 * t);
-        X1 += 0.00000078375 * Math.cos(1.28057643864 + 107.0249274817 * t);
-        X1 += 0.00000095815 * Math.cos(2.80749230313 + 191.2076949102 * t);
-        X1 += 0.00000073135 * Math.cos(0.85149756693 + 1148.2476104062 * t);
-        X1 += 0.00000070686 * Math.cos(2.40846378030 + 251.4321310758 * t);
-        X1 += 0.00000074955 * Math.cos(1.41374378423 + 284.1485407422 * t);
-        X1 += 0.00000084109 * Math.cos(1.77169146527 + 219.4494345923 * t);
-        X1 += 0.00000082127 * Math.cos(0.20504163991 + 1162.4747044078 * t);
-        X1 += 0.00000065942 * Math.cos(4.83872793621 + 636.7158925763 * t);
-        X1 += 0.00000063005 * Math.cos(5.10229133202 + 479.2883889155 * t);
-        X1 += 0.00000073214 * Math.cos(4.31149716720 + 344.7030453079 * t);
-        X1 += 0.00000061071 * Math.cos(0.21868225550 + 1788.1448967202 * t);
-        X1 += 0.00000059724 * Math.cos(6.15667265627 + 99.1606209555 * t);
-        X1 += 0.00000063039 * Math.cos(3.97913184944 + 436.8931316145 * t);
-        X1 += 0.00000064926 * Math.cos(1.38378985477 + 1574.8458012822 * t);
-        X1 += 0.00000059411 * Math.cos(3.33267755983 + 74.7815985673 * t);
-        X1 += 0.00000057459 * Math.cos(1.30013550877 + 98.8999885246 * t);
-        X1 += 0.00000063077 * Math.cos(3.82649643530 + 358.9301393095 * t);
-        X1 += 0.00000058706 * Math.cos(0.74631691499 + 114.1384744825 * t);
-        X1 += 0.00000065943 * Math.cos(3.15806871314 + 207.1487562837 * t);
-        X1 += 0.00000071290 * Math.cos(5.54453414575 + 1375.7737998458 * t);
-        X1 += 0.00000060283 * Math.cos(4.24355163684 + 417.0369633204 * t);
-        X1 += 0.00000061593 * Math.cos(0.18111349611 + 404.5067903482 * t);
-        X1 += 0.00000054192 * Math.cos(2.42191769133 + 175.1660598002 * t);
-        X1 += 0.00000063883 * Math.cos(1.98934528141 + 235.3904959658 * t);
-        X1 += 0.00000052018 * Math.cos(2.01145355849 + 220.4608265486 * t);
-        X1 += 0.00000050350 * Math.cos(5.61723540234 + 416.3032501375 * t);
-        X1 += 0.00000048167 * Math.cos(1.89139655642 + 351.8165923087 * t);
-        X1 += 0.00000066418 * Math.cos(4.53131068295 + 337.732510659 * t);
-        X1 += 0.00000054283 * Math.cos(0.47402761164 + 1589.0728952838 * t);
-        X1 += 0.00000050400 * Math.cos(1.52095424250 + 429.0458714308 * t);
-        X1 += 0.00000048509 * Math.cos(3.08664050706 + 151.0476698429 * t);
-        X1 += 0.00000052615 * Math.cos(4.02063591989 + 4.665866446 * t);
-        X1 += 0.00000050403 * Math.cos(1.56736943409 + 121.2520214833 * t);
-        X1 += 0.00000050842 * Math.cos(2.66055558906 + 181.0557665236 * t);
-        X1 += 0.00000045466 * Math.cos(3.95122113198 + 1581.959348283 * t);
-        X1 += 0.00000055974 * Math.cos(0.53749535499 + 554.0699874828 * t);
-        X1 += 0.00000050833 * Math.cos(2.05330984040 + 934.9485149682 * t);
-        X1 += 0.00000044915 * Math.cos(2.30720526284 + 245.5424243524 * t);
-        X1 += 0.00000044007 * Math.cos(2.26187654674 + 205.2223405907 * t);
-        X1 += 0.00000040580 * Math.cos(2.82302262410 + 867.4234757536 * t);
-        X1 += 0.00000040794 * Math.cos(3.77453610582 + 621.7380390493 * t);
-        X1 += 0.00000039034 * Math.cos(4.46509633732 + 131.5469622218 * t);
-        X1 += 0.00000040198 * Math.cos(4.00305184334 + 81.7521332162 * t);
-        X1 += 0.00000041101 * Math.cos(5.97982167014 + 1361.5467058442 * t);
-        X1 += 0.00000043683 * Math.cos(2.49416224692 + 198.321241911 * t);
-        X1 += 0.00000041544 * Math.cos(5.90298490617 + 643.8294395771 * t);
-        X1 += 0.00000036724 * Math.cos(1.89053379943 + 148.0787244263 * t);
-        X1 += 0.00000036298 * Math.cos(5.66459628765 + 444.7574381407 * t);
-        X1 += 0.00000036204 * Math.cos(2.75001997487 + 214.0498549634 * t);
-        X1 += 0.00000047120 * Math.cos(1.21795524426 + 1052.2683831884 * t);
-        X1 += 0.00000044554 * Math.cos(1.95732411408 + 842.1506814881 * t);
-        X1 += 0.00000034395 * Math.cos(0.55991266624 + 1464.6394800628 * t);
-        X1 += 0.00000034251 * Math.cos(2.87922054674 + 289.5651667136 * t);
-        X1 += 0.00000036820 * Math.cos(2.97826336303 + 206.1373643274 * t);
-        X1 += 0.00000033234 * Math.cos(5.25972985177 + 177.8743727859 * t);
-        X1 += 0.00000032822 * Math.cos(2.19475458249 + 212.5483359126 * t);
-        X1 += 0.00000037520 * Math.cos(2.38353067688 + 228.276948965 * t);
-        X1 += 0.00000031244 * Math.cos(4.42843205080 + 78.7137518304 * t);
-        X1 += 0.00000031834 * Math.cos(1.79566179374 + 275.5505210331 * t);
-        X1 += 0.00000028965 * Math.cos(5.92603162323 + 248.7238180901 * t);
-        X1 += 0.00000031198 * Math.cos(1.10756989883 + 1891.2376709388 * t);
-        X1 += 0.00000035352 * Math.cos(2.37933201235 + 501.3797894433 * t);
-        X1 += 0.00000027618 * Math.cos(6.22546756438 + 2104.5367663768 * t);
-        X1 += 0.00000029957 * Math.cos(5.40487681857 + 32.2433289144 * t);
-        X1 += 0.00000035205 * Math.cos(6.13487911100 + 1478.8665740644 * t);
-        X1 += 0.00000033504 * Math.cos(1.04514414503 + 436.1594184316 * t);
-        X1 += 0.00000031852 * Math.cos(3.21479408149 + 414.0680179038 * t);
-        X1 += 0.00000027482 * Math.cos(3.85997067594 + 114.3991069134 * t);
-        X1 += 0.00000029366 * Math.cos(5.70869861143 + 214.7835681463 * t);
-        X1 += 0.00000029442 * Math.cos(5.76608786139 + 355.7487455718 * t);
-        X1 += 0.00000024664 * Math.cos(4.56168548884 + 427.5613987225 * t);
-        X1 += 0.00000030915 * Math.cos(5.24239185338 + 1692.1656695024 * t);
-        X1 += 0.00000027676 * Math.cos(0.89718596794 + 347.8844390456 * t);
-        X1 += 0.00000023455 * Math.cos(2.96060769325 + 278.5194664497 * t);
-        X1 += 0.00000023061 * Math.cos(3.72246157747 + 1898.3512179396 * t);
-        X1 += 0.00000024810 * Math.cos(0.83325589326 + 425.6349830295 * t);
-        X1 += 0.00000023968 * Math.cos(1.93756656786 + 431.264057322 * t);
-        X1 += 0.00000025563 * Math.cos(4.02928916042 + 69.1525242748 * t);
-        X1 += 0.00000022254 * Math.cos(2.97473191186 + 601.7642506762 * t);
-        X1 += 0.00000021877 * Math.cos(3.74094863602 + 299.1263942692 * t);
-        X1 += 0.00000024183 * Math.cos(1.76682268202 + 508.3503240922 * t);
-        X1 += 0.00000021272 * Math.cos(0.55451958674 + 916.9322800554 * t);
-        X1 += 0.00000021278 * Math.cos(3.99747719378 + 319.5732633943 * t);
-        X1 += 0.00000022384 * Math.cos(2.85389159089 + 576.1613880106 * t);
-        X1 += 0.00000023974 * Math.cos(3.13703648780 + 134.5853436076 * t);
-        X1 += 0.00000024261 * Math.cos(0.24600555997 + 1272.6810256272 * t);
-        X1 += 0.00000024477 * Math.cos(1.75741242790 + 1251.3403846248 * t);
-        X1 += 0.00000020791 * Math.cos(4.86337530922 + 241.7532834412 * t);
-        X1 += 0.00000025281 * Math.cos(1.25065914595 + 421.93232443 * t);
-        X1 += 0.00000021820 * Math.cos(5.17668449284 + 405.2575498736 * t);
-        X1 += 0.00000019942 * Math.cos(1.87120288031 + 295.0512286542 * t);
-        X1 += 0.00000023121 * Math.cos(4.47416931306 + 230.7075831773 * t);
-        X1 += 0.00000020375 * Math.cos(1.15875306859 + 426.6463749858 * t);
-        X1 += 0.00000019224 * Math.cos(2.18427009211 + 333.657345044 * t);
-        X1 += 0.00000021067 * Math.cos(4.89381984040 + 421.1815649046 * t);
-        X1 += 0.00000019761 * Math.cos(1.44807575199 + 188.9200730498 * t);
-        X1 += 0.00000021171 * Math.cos(2.77618836420 + 221.3758502853 * t);
-        X1 += 0.00000019879 * Math.cos(4.95105499299 + 312.4597163935 * t);
-        X1 += 0.00000017765 * Math.cos(1.15218439574 + 5.4166259714 * t);
-        X1 += 0.00000018160 * Math.cos(5.37336510772 + 205.4347889118 * t);
-        X1 += 0.00000017576 * Math.cos(4.88872208031 + 313.2104759189 * t);
-        X1 += 0.00000019556 * Math.cos(5.57005392669 + 327.4375699205 * t);
-        X1 += 0.00000017303 * Math.cos(5.13480198138 + 320.3240229197 * t);
-        X1 += 0.00000017270 * Math.cos(4.34613632899 + 120.358249606 * t);
-        X1 += 0.00000022410 * Math.cos(4.17014708230 + 39.3568759152 * t);
-        X1 += 0.00000016690 * Math.cos(0.29893752523 + 1781.0313497194 * t);
-        X1 += 0.00000016458 * Math.cos(4.30803351694 + 439.1283638482 * t);
-        X1 += 0.00000018207 * Math.cos(0.48659303659 + 6275.9623029906 * t);
-        X1 += 0.00000021732 * Math.cos(5.22005710777 + 211.8146227297 * t);
-        X1 += 0.00000018507 * Math.cos(4.70834364633 + 144.1465711632 * t);
-        X1 += 0.00000016075 * Math.cos(1.92420405654 + 778.4147831847 * t);
-        X1 += 0.00000017154 * Math.cos(3.41932820069 + 237.6781178262 * t);
-        X1 += 0.00000017797 * Math.cos(6.17606912280 + 6290.1893969922 * t);
-        X1 += 0.00000019762 * Math.cos(2.03523955092 + 696.5196376166 * t);
-        X1 += 0.00000017090 * Math.cos(1.90981812501 + 10206.1719992102 * t);
-        X1 += 0.00000015935 * Math.cos(5.76041448948 + 1677.9385755008 * t);
-        X1 += 0.00000020378 * Math.cos(4.24340498319 + 426.5500067662 * t);
-        X1 += 0.00000016597 * Math.cos(0.85397214019 + 2207.6295405954 * t);
-        X1 += 0.00000016706 * Math.cos(1.31728263597 + 10220.3990932118 * t);
-        X1 += 0.00000018071 * Math.cos(6.21759540157 + 166.828672522 * t);
-        X1 += 0.00000018385 * Math.cos(3.75515575211 + 67.6680515665 * t);
-        X1 += 0.00000015128 * Math.cos(1.51586170044 + 710.7467316182 * t);
-        X1 += 0.00000014449 * Math.cos(6.18261120713 + 525.4981794006 * t);
-        X1 += 0.00000016166 * Math.cos(4.69227400215 + 14.977853527 * t);
-        X1 += 0.00000014583 * Math.cos(0.68816508751 + 99.9113804809 * t);
-        X1 += 0.00000014470 * Math.cos(0.69520749579 + 59.8037450403 * t);
-        X1 += 0.00000017662 * Math.cos(5.83272145706 + 1795.258443721 * t);
-        X1 += 0.00000013053 * Math.cos(4.90886335399 + 196.0336200506 * t);
-        X1 += 0.00000012965 * Math.cos(3.45124261363 + 87.3117715395 * t);
-        X1 += 0.00000013625 * Math.cos(1.06434195633 + 312.1990839626 * t);
-        X1 += 0.00000014561 * Math.cos(4.55001974727 + 381.3516082374 * t);
-        X1 += 0.00000014849 * Math.cos(5.26704509981 + 182.279606801 * t);
-        X1 += 0.00000017110 * Math.cos(1.29146214271 + 432.2272651685 * t);
-        X1 += 0.00000012655 * Math.cos(5.95283827941 + 2420.9286360334 * t);
-        X1 += 0.00000012694 * Math.cos(5.44721267580 + 1169.5882514086 * t);
-        X1 += 0.00000015239 * Math.cos(5.32338258618 + 429.5189521828 * t);
-        X1 += 0.00000012510 * Math.cos(3.78183987918 + 757.2171545342 * t);
-        X1 += 0.00000012205 * Math.cos(3.50752907894 + 661.2379273164 * t);
-        X1 += 0.00000013493 * Math.cos(2.43215265163 + 849.2642284889 * t);
-        X1 += 0.00000014072 * Math.cos(4.06344928621 + 395.578702239 * t);
-        X1 += 0.00000013601 * Math.cos(0.17868852981 + 96.8729990951 * t);
-        X1 += 0.00000011964 * Math.cos(6.23368291889 + 230.5645708254 * t);
-        X1 += 0.00000013246 * Math.cos(4.65483803385 + 129.9194771616 * t);
-        X1 += 0.00000014172 * Math.cos(0.19960468334 + 116.4260963429 * t);
-        X1 += 0.00000011819 * Math.cos(0.54037105135 + 430.79097657 * t);
-        X1 += 0.00000012156 * Math.cos(5.83782522442 + 373.9079928365 * t);
-        X1 += 0.00000011378 * Math.cos(3.43727161334 + 2214.7430875962 * t);
-        X1 += 0.00000014807 * Math.cos(5.01458165145 + 273.1028404783 * t);
-        X1 += 0.00000013178 * Math.cos(1.47675722182 + 1567.7322542814 * t);
-        X1 += 0.00000011322 * Math.cos(1.65088277124 + 776.9303104764 * t);
-        X1 += 0.00000012602 * Math.cos(6.09917656228 + 28.4541880032 * t);
-        X1 += 0.00000011336 * Math.cos(4.21862046409 + 131.4039498699 * t);
-        X1 += 0.00000010930 * Math.cos(4.19619440446 + 145.6310438715 * t);
-        X1 += 0.00000012399 * Math.cos(4.16744254740 + 329.7251917809 * t);
-        X1 += 0.00000011422 * Math.cos(0.13933692639 + 617.8058857862 * t);
-        X1 += 0.00000010671 * Math.cos(5.59629136646 + 426.0769260142 * t);
-        X1 += 0.00000010673 * Math.cos(5.82038453434 + 221.1634019642 * t);
-        X1 += 0.00000013921 * Math.cos(3.33457458779 + 558.0021407459 * t);
-        X1 += 0.00000010778 * Math.cos(4.18033815184 + 343.2185725996 * t);
-        X1 += 0.00000011528 * Math.cos(4.81930125364 + 432.0148168474 * t);
-        X1 += 0.00000011552 * Math.cos(1.84554412069 + 5849.3641121146 * t);
-        X1 += 0.00000010051 * Math.cos(0.62803050508 + 767.3690829208 * t);
-        X1 += 0.00000013339 * Math.cos(5.02992037744 + 2008.557539159 * t);
-        X1 += 0.00000010229 * Math.cos(1.16924486323 + 199.2844497575 * t);
-        X1 += 0.00000010068 * Math.cos(1.36356275788 + 206.706813299 * t);
-        X1 += 0.00000010639 * Math.cos(0.61839689270 + 84.3428261229 * t);
-        X1 += 0.00000010876 * Math.cos(3.34333014843 + 305.3461693927 * t);
-        X1 += 0.00000010915 * Math.cos(2.79445499623 + 199.9657733137 * t);
-        X1 += 0.00000009725 * Math.cos(3.30023563496 + 181.806526049 * t);
-        X1 += 0.00000009672 * Math.cos(6.28029607027 + 238.5718897035 * t);
-        X1 += 0.00000009859 * Math.cos(2.88114726106 + 572.2292347475 * t);
-        X1 += 0.00000012081 * Math.cos(2.17889127290 + 62.2514255951 * t);
-        X1 += 0.00000010814 * Math.cos(3.27218935827 + 9779.5738083342 * t);
-        X1 += 0.00000009745 * Math.cos(4.95649952378 + 184.9879197867 * t);
-        X1 += 0.00000009751 * Math.cos(1.00495055462 + 192.6921676185 * t);
-        X1 += 0.00000011495 * Math.cos(0.37585889114 + 92.0470739547 * t);
-        X1 += 0.00000009779 * Math.cos(2.45540897959 + 188.1693135244 * t);
-        X1 += 0.00000011105 * Math.cos(5.60272957525 + 46.470422916 * t);
-        X1 += 0.00000010288 * Math.cos(1.25217228657 + 5863.5912061162 * t);
-        X1 += 0.00000012505 * Math.cos(6.06854885763 + 196.6243208816 * t);
-        X1 += 0.00000010047 * Math.cos(0.46188126695 + 20.6069278195 * t);
-        X1 += 0.00000010712 * Math.cos(6.08785652303 + 427.1194557378 * t);
-        X1 += 0.00000009237 * Math.cos(3.96643507366 + 280.9671470045 * t);
-        X1 += 0.00000009203 * Math.cos(4.30153048670 + 214.5711198252 * t);
-        X1 += 0.00000009203 * Math.cos(0.58809567989 + 212.0270710508 * t);
-        X1 += 0.00000010217 * Math.cos(5.71906225111 + 65.2203710117 * t);
-        X1 += 0.00000009371 * Math.cos(3.72043087349 + 227.3137411185 * t);
-        X1 += 0.00000010238 * Math.cos(5.85230859079 + 244.318584075 * t);
-        X1 += 0.00000011380 * Math.cos(1.44237688792 + 156.6767441354 * t);
-        X1 += 0.00000010536 * Math.cos(0.03525818188 + 153.4953503977 * t);
-        X1 += 0.00000010417 * Math.cos(4.57368017472 + 41.6444977756 * t);
-        X1 += 0.00000010043 * Math.cos(2.09517100147 + 226.6324175623 * t);
-        X1 += 0.00000009557 * Math.cos(0.89168093041 + 411.620337349 * t);
-        X1 += 0.00000008873 * Math.cos(3.26329229257 + 963.4027029714 * t);
-        X1 += 0.00000011992 * Math.cos(1.46247236631 + 563.6312150384 * t);
-        X1 += 0.00000008787 * Math.cos(1.29695498377 + 51.2057253312 * t);
-        X1 += 0.00000009612 * Math.cos(2.67949657630 + 9793.8009023358 * t);
-        X1 += 0.00000010094 * Math.cos(4.87681316056 + 259.769518354 * t);
-        X1 += 0.00000008710 * Math.cos(2.51870094895 + 238.4288773516 * t);
-        X1 += 0.00000009008 * Math.cos(1.18557398919 + 637.4496057592 * t);
-        X1 += 0.00000008926 * Math.cos(3.80008358468 + 233.9060232575 * t);
-        X1 += 0.00000009210 * Math.cos(4.50897877030 + 77.962992305 * t);
-        X1 += 0.00000008884 * Math.cos(2.03591715695 + 159.1244246902 * t);
-        X1 += 0.00000009590 * Math.cos(4.94810472412 + 326.6868103951 * t);
-        X1 += 0.00000011742 * Math.cos(2.57725200458 + 45.5766510387 * t);
-        X1 += 0.00000008212 * Math.cos(0.05357930115 + 2097.423219376 * t);
-        X1 += 0.00000008676 * Math.cos(1.36795623721 + 824.7421937488 * t);
-        X1 += 0.00000009187 * Math.cos(3.26250261117 + 556.5176680376 * t);
-        X1 += 0.00000008184 * Math.cos(6.18341957072 + 241.6102710893 * t);
-        X1 += 0.00000008040 * Math.cos(2.68676513528 + 546.956440482 * t);
-        X1 += 0.00000010057 * Math.cos(0.45621087059 + 258.8757464767 * t);
-        X1 += 0.00000008030 * Math.cos(1.57230173248 + 244.791664827 * t);
-        X1 += 0.00000010377 * Math.cos(2.43734552323 + 212.4053235607 * t);
-        X1 += 0.00000010377 * Math.cos(2.45228064336 + 214.1928673153 * t);
-        X1 += 0.00000009061 * Math.cos(2.72986488306 + 206.233732547 * t);
-        X1 += 0.00000010519 * Math.cos(2.17106565253 + 92.940845832 * t);
-        X1 += 0.00000007915 * Math.cos(2.63390831009 + 526.5095713569 * t);
-        X1 += 0.00000008685 * Math.cos(5.30112488875 + 220.364458329 * t);
-        X1 += 0.00000008358 * Math.cos(0.57656413895 + 2524.021410252 * t);
-        X1 += 0.00000008160 * Math.cos(1.28270278200 + 60.7669528868 * t);
-        X1 += 0.00000008189 * Math.cos(0.93497045777 + 195.8906076987 * t);
-        X1 += 0.00000007936 * Math.cos(2.57331527300 + 173.9422195228 * t);
-        X1 += 0.00000007295 * Math.cos(0.46947569621 + 1493.093668066 * t);
-        X1 += 0.00000007076 * Math.cos(1.51163518889 + 464.7312265138 * t);
-        X1 += 0.00000008902 * Math.cos(0.92333738769 + 81.8951455681 * t);
-        X1 += 0.00000007187 * Math.cos(3.90838603910 + 864.2420820159 * t);
-        X1 += 0.00000007014 * Math.cos(3.23031710720 + 627.3671133418 * t);
-        X1 += 0.00000007389 * Math.cos(2.49697747476 + 254.9435932136 * t);
-        X1 += 0.00000006894 * Math.cos(5.98648101436 + 282.4516197128 * t);
-        X1 += 0.00000006941 * Math.cos(1.47629647815 + 561.1835344836 * t);
-        X1 += 0.00000007826 * Math.cos(3.52552865669 + 23.5758732361 * t);
-        X1 += 0.00000006648 * Math.cos(1.31475016542 + 1286.9081196288 * t);
-        X1 += 0.00000006665 * Math.cos(1.25893140425 + 357.4456666012 * t);
-        X1 += 0.00000007035 * Math.cos(3.95586092314 + 458.8415197904 * t);
-        X1 += 0.00000006518 * Math.cos(6.21803736938 + 638.4128136057 * t);
-        X1 += 0.00000007597 * Math.cos(4.56291940149 + 186.472392495 * t);
-        X1 += 0.00000007106 * Math.cos(2.68615304998 + 570.7447620392 * t);
-        X1 += 0.00000006436 * Math.cos(5.64783432607 + 1994.3304451574 * t);
-        X1 += 0.00000008770 * Math.cos(5.50567173542 + 2111.6503133776 * t);
-        X1 += 0.00000006216 * Math.cos(2.02339326554 + 171.6545976624 * t);
-        X1 += 0.00000006188 * Math.cos(1.48241471659 + 339.2864193365 * t);
-        X1 += 0.00000007303 * Math.cos(1.22221564178 + 1884.124123938 * t);
-        X1 += 0.00000007629 * Math.cos(3.38251628365 + 295.1942410061 * t);
-        X1 += 0.00000006035 * Math.cos(2.93854921292 + 31.019488637 * t);
-        X1 += 0.00000005998 * Math.cos(0.44195423177 + 334.5511169213 * t);
-        X1 += 0.00000006129 * Math.cos(4.96628964200 + 211.0114735776 * t);
-        X1 += 0.00000006129 * Math.cos(6.20652183177 + 215.5867172984 * t);
-        X1 += 0.00000006230 * Math.cos(2.93562516232 + 274.0660483248 * t);
-        X1 += 0.00000007108 * Math.cos(1.56333289690 + 427.3489504014 * t);
-        X1 += 0.00000006032 * Math.cos(1.31569921563 + 532.8723588323 * t);
-        X1 += 0.00000005728 * Math.cos(5.71498118676 + 2737.32050569 * t);
-        X1 += 0.00000006470 * Math.cos(5.25485081311 + 162.0933701068 * t);
-        X1 += 0.00000005741 * Math.cos(4.42916296869 + 128.9562693151 * t);
-        X1 += 0.00000005868 * Math.cos(5.70598476093 + 264.5048207692 * t);
-        X1 += 0.00000005589 * Math.cos(3.90685132543 + 54.1746707478 * t);
-        X1 += 0.00000006286 * Math.cos(0.94028611990 + 432.7485300303 * t);
-        X1 += 0.00000005979 * Math.cos(0.47283810206 + 240.125798381 * t);
-        X1 += 0.00000005548 * Math.cos(3.14875859722 + 2531.1349572528 * t);
-        X1 += 0.00000005905 * Math.cos(2.50850442183 + 856.3777754897 * t);
-        X1 += 0.00000005596 * Math.cos(2.61159505041 + 193.655375465 * t);
-        X1 += 0.00000006762 * Math.cos(2.27424026675 + 420.9691165835 * t);
-        X1 += 0.00000007277 * Math.cos(2.47497568796 + 611.4430983108 * t);
-        X1 += 0.00000005462 * Math.cos(0.48649532469 + 1905.4647649404 * t);
-        X1 += 0.00000005579 * Math.cos(2.41862523941 + 252.6559713532 * t);
-        X1 += 0.00000005918 * Math.cos(3.85830083228 + 422.405405182 * t);
-        X1 += 0.00000005963 * Math.cos(2.87749733117 + 16.6747745564 * t);
-        X1 += 0.00000005207 * Math.cos(2.71607990365 + 533.6231183577 * t);
-        X1 += 0.00000006291 * Math.cos(4.79715993624 + 423.6774295692 * t);
-        X1 += 0.00000005288 * Math.cos(2.86056658179 + 267.4737661858 * t);
-        X1 += 0.00000005147 * Math.cos(1.21452560134 + 488.8496164711 * t);
-        X1 += 0.00000005102 * Math.cos(1.71142923231 + 472.1748419147 * t);
-        X1 += 0.00000006136 * Math.cos(3.08419059916 + 125.9873238985 * t);
-        X1 += 0.00000004857 * Math.cos(2.21952453414 + 29.2049475286 * t);
-        X1 += 0.00000006447 * Math.cos(4.25155724533 + 107.7586406646 * t);
-        X1 += 0.00000005252 * Math.cos(4.32715420518 + 342.2553647531 * t);
-        X1 += 0.00000004774 * Math.cos(1.45631356540 + 394.3548619616 * t);
-        X1 += 0.00000006315 * Math.cos(4.86204823155 + 2324.9494088156 * t);
-        X1 += 0.00000005004 * Math.cos(3.21047421953 + 650.1922270525 * t);
-        X1 += 0.00000005322 * Math.cos(4.76999032492 + 24.3790223882 * t);
-        X1 += 0.00000005813 * Math.cos(2.27949745352 + 38.1330356378 * t);
-        X1 += 0.00000004502 * Math.cos(3.81171539816 + 167.7224443993 * t);
-        X1 += 0.00000004550 * Math.cos(0.86759003557 + 291.262087743 * t);
-        X1 += 0.00000004559 * Math.cos(1.72604137750 + 418.5214360287 * t);
-        X1 += 0.00000005441 * Math.cos(2.06417156626 + 229.9738699944 * t);
-        X1 += 0.00000005865 * Math.cos(3.88586257924 + 551.031606097 * t);
-        X1 += 0.00000004491 * Math.cos(4.35642719677 + 850.0149880143 * t);
-        X1 += 0.00000004589 * Math.cos(1.09304022282 + 1141.1340634054 * t);
-        X1 += 0.00000004471 * Math.cos(0.86761100667 + 361.3778198643 * t);
-        X1 += 0.00000004779 * Math.cos(2.28566566949 + 397.3932433474 * t);
-        X1 += 0.00000004269 * Math.cos(5.42826152642 + 201.5196819912 * t);
-        X1 += 0.00000004269 * Math.cos(2.60295729376 + 225.0785088848 * t);
-        X1 += 0.00000004391 * Math.cos(4.27594847745 + 491.8185618877 * t);
-        X1 += 0.00000004469 * Math.cos(5.64881997462 + 428.0826635843 * t);
-        X1 += 0.00000004012 * Math.cos(5.27339722503 + 425.1137181677 * t);
-        X1 += 0.00000004407 * Math.cos(0.30585517060 + 2840.4132799086 * t);
-        X1 += 0.00000004203 * Math.cos(2.42086992646 + 364.3467652809 * t);
-        X1 += 0.00000004218 * Math.cos(4.29824706870 + 135.336103133 * t);
-        X1 += 0.00000003913 * Math.cos(2.20696118315 + 504.561183181 * t);
-        X1 += 0.00000003960 * Math.cos(1.01941294318 + 292.0128472684 * t);
-        X1 += 0.00000003740 * Math.cos(4.88716400146 + 658.0565335787 * t);
-        X1 += 0.00000003805 * Math.cos(4.25039588116 + 692.5874843535 * t);
-        X1 += 0.00000003782 * Math.cos(6.17958645001 + 2413.8150890326 * t);
-        X1 += 0.00000004999 * Math.cos(1.43325039057 + 448.6895914038 * t);
-        X1 += 0.00000003941 * Math.cos(1.19970132537 + 433.7599219866 * t);
-        X1 += 0.00000004489 * Math.cos(2.13031131602 + 409.9234163196 * t);
-        X1 += 0.00000004724 * Math.cos(0.88455881434 + 205.6642835754 * t);
-        X1 += 0.00000004853 * Math.cos(3.82187028425 + 189.7232222019 * t);
-        X1 += 0.00000003566 * Math.cos(1.79794788895 + 211.6021744086 * t);
-        X1 += 0.00000003566 * Math.cos(6.23327093123 + 214.9960164674 * t);
-        X1 += 0.00000004241 * Math.cos(3.81197673400 + 369.9758395734 * t);
-        X1 += 0.00000004210 * Math.cos(0.96298353439 + 2200.5159935946 * t);
-        X1 += 0.00000003518 * Math.cos(0.26426270051 + 33.1371007917 * t);
-        X1 += 0.00000003584 * Math.cos(5.79171238383 + 77.7505439839 * t);
-        X1 += 0.00000003682 * Math.cos(0.80307954180 + 732.6951197941 * t);
-        X1 += 0.00000004559 * Math.cos(3.52798487098 + 835.0371344873 * t);
-        X1 += 0.00000004873 * Math.cos(1.38708989982 + 721.6494195302 * t);
-        X1 += 0.00000003781 * Math.cos(1.03748681100 + 106.0135355254 * t);
-        X1 += 0.00000004527 * Math.cos(0.86326298236 + 220.9339073006 * t);
-        X1 += 0.00000003477 * Math.cos(0.22806246853 + 2221.856634597 * t);
-        X1 += 0.00000003735 * Math.cos(5.87888144153 + 33.9402499438 * t);
-        X1 += 0.00000004657 * Math.cos(5.21916539574 + 2428.0421830342 * t);
-        X1 += 0.00000003967 * Math.cos(5.18202138976 + 120.5012619579 * t);
-        X1 += 0.00000004240 * Math.cos(0.93998618693 + 2118.7638603784 * t);
-        X1 += 0.00000003785 * Math.cos(5.04003954266 + 214.9436268407 * t);
-        X1 += 0.00000003785 * Math.cos(6.13277193111 + 211.6545640353 * t);
-        X1 += 0.00000003610 * Math.cos(1.83782296246 + 409.1897031367 * t);
-        X1 += 0.00000003300 * Math.cos(6.20167657081 + 543.0242872189 * t);
-        X1 += 0.00000003287 * Math.cos(4.88392830876 + 184.0941479094 * t);
-        X1 += 0.00000004085 * Math.cos(2.04595596007 + 519.3960243561 * t);
-        X1 += 0.00000003713 * Math.cos(1.92562812532 + 203.2647871304 * t);
-        X1 += 0.00000003713 * Math.cos(6.10559069486 + 223.3334037456 * t);
-        X1 += 0.00000003167 * Math.cos(0.25257995187 + 201.9927627432 * t);
-        X1 += 0.00000003167 * Math.cos(1.49545356113 + 224.6054281328 * t);
-        X1 += 0.00000003700 * Math.cos(4.89576644081 + 170.0100662597 * t);
-        X1 += 0.00000004012 * Math.cos(2.58912835624 + 494.2662424425 * t);
-        X1 += 0.00000003678 * Math.cos(1.45731309163 + 418.0001711669 * t);
-        X1 += 0.00000003067 * Math.cos(2.46882556311 + 441.576044403 * t);
-        X1 += 0.00000003380 * Math.cos(0.76892084559 + 236.8749686741 * t);
-        X1 += 0.00000003101 * Math.cos(5.70696828046 + 406.954470903 * t);
-        X1 += 0.00000002898 * Math.cos(2.07796697547 + 1080.7225711916 * t);
-        X1 += 0.00000002943 * Math.cos(4.30276376907 + 255.8373650909 * t);
-        X1 += 0.00000003571 * Math.cos(0.56587079675 + 511.5317178299 * t);
-        X1 += 0.00000003935 * Math.cos(3.71027206200 + 425.8474313506 * t);
-        X1 += 0.00000002881 * Math.cos(4.27828370830 + 92.7978334801 * t);
-        X1 += 0.00000002993 * Math.cos(4.47257282424 + 405.9912630565 * t);
-        X1 += 0.00000003235 * Math.cos(2.72240470556 + 112.6540017742 * t);
-        X1 += 0.00000003336 * Math.cos(0.12942181361 + 128.3655684841 * t);
-        X1 += 0.00000002826 * Math.cos(2.70175929398 + 84.9335269539 * t);
-        X1 += 0.00000002998 * Math.cos(2.34100102411 + 388.4651552382 * t);
-        X1 += 0.00000002751 * Math.cos(3.07786378008 + 518.6452648307 * t);
-        X1 += 0.00000002850 * Math.cos(5.39053439064 + 220.5245170234 * t);
-        X1 += 0.00000002755 * Math.cos(5.36323095715 + 731.9443602687 * t);
-        X1 += 0.00000003003 * Math.cos(3.47647543508 + 450.9772132642 * t);
-        X1 += 0.00000003703 * Math.cos(1.39868121658 + 1055.4497769261 * t);
-        X1 += 0.00000002703 * Math.cos(3.67105639526 + 344.8460576598 * t);
-        X1 += 0.00000002705 * Math.cos(4.48933959673 + 60.5545045657 * t);
-        X1 += 0.00000002669 * Math.cos(2.23461202741 + 815.0633461142 * t);
-        X1 += 0.00000003694 * Math.cos(1.25430082141 + 465.9550667912 * t);
-        X1 += 0.00000002831 * Math.cos(2.64047307044 + 2847.5268269094 * t);
-        X1 += 0.00000002858 * Math.cos(5.54569423185 + 540.7366653585 * t);
-        X1 += 0.00000003555 * Math.cos(5.09057884081 + 73.297125859 * t);
-        X1 += 0.00000002605 * Math.cos(2.58833113137 + 1596.1864422846 * t);
-        X1 += 0.00000002598 * Math.cos(3.22906565109 + 1368.660252845 * t);
-        X1 += 0.00000002763 * Math.cos(2.67302780179 + 5636.0650166766 * t);
-        X1 += 0.00000002782 * Math.cos(0.10347092925 + 638.9340784675 * t);
-        X1 += 0.00000002613 * Math.cos(0.64725972976 + 739.8086667949 * t);
-        X1 += 0.00000002865 * Math.cos(0.07273098423 + 58.1068240109 * t);
-        X1 += 0.00000003003 * Math.cos(4.78201826415 + 2641.3412784722 * t);
-        X1 += 0.00000002843 * Math.cos(0.39095638889 + 630.3360587584 * t);
-        X1 += 0.00000003169 * Math.cos(5.31181193539 + 55.1378785943 * t);
-        X1 += 0.00000002545 * Math.cos(4.09883259215 + 455.0523788792 * t);
-        X1 += 0.00000002510 * Math.cos(3.89386878011 + 640.8604941605 * t);
-        X1 += 0.00000002993 * Math.cos(4.38089542258 + 462.0229135281 * t);
-        X1 += 0.00000002474 * Math.cos(1.50083275203 + 419.532827985 * t);
-        X1 += 0.00000002847 * Math.cos(5.76025163205 + 348.635198571 * t);
-        X1 += 0.00000002551 * Math.cos(1.28445104958 + 184.8449074348 * t);
-        X1 += 0.00000003048 * Math.cos(0.69309647906 + 6062.6632075526 * t);
-        X1 += 0.00000002526 * Math.cos(5.44087477787 + 857.1285350151 * t);
-        X1 += 0.00000002597 * Math.cos(0.35423361548 + 426.4863162914 * t);
-        X1 += 0.00000002937 * Math.cos(4.96203625209 + 739.0579072695 * t);
-        X1 += 0.00000002464 * Math.cos(5.65030234126 + 3053.7123753466 * t);
-        X1 += 0.00000002820 * Math.cos(6.27704326901 + 256.5881246163 * t);
-        X1 += 0.00000002444 * Math.cos(3.25740106622 + 420.4478517217 * t);
-        X1 += 0.00000002412 * Math.cos(3.12276627293 + 1685.0521225016 * t);
-        X1 += 0.00000003165 * Math.cos(5.89068478002 + 200.5564741447 * t);
-        X1 += 0.00000003165 * Math.cos(2.14053404016 + 226.0417167313 * t);
-        X1 += 0.00000002534 * Math.cos(6.05167254488 + 2730.2069586892 * t);
-        X1 += 0.00000003229 * Math.cos(1.28247322439 + 137.0330241624 * t);
-        X1 += 0.00000002447 * Math.cos(3.11720914436 + 206.9363079626 * t);
-        X1 += 0.00000002447 * Math.cos(4.91400967582 + 219.6618829134 * t);
-        X1 += 0.00000002710 * Math.cos(1.36243351725 + 1802.3719907218 * t);
-        X1 += 0.00000002344 * Math.cos(1.03710656159 + 402.2191684878 * t);
-        X1 += 0.00000002329 * Math.cos(2.12756268735 + 454.9093665273 * t);
-        X1 += 0.00000002353 * Math.cos(2.57967727687 + 398.1440028728 * t);
-        X1 += 0.00000003270 * Math.cos(1.82014094673 + 714.6788848813 * t);
-        X1 += 0.00000002295 * Math.cos(2.14341201879 + 502.8642621516 * t);
-        X1 += 0.00000002650 * Math.cos(1.83522077064 + 172.2452984934 * t);
-        X1 += 0.00000002906 * Math.cos(1.49315014147 + 403.0223176399 * t);
-        X1 += 0.00000002979 * Math.cos(1.32345981452 + 1485.9801210652 * t);
-        X1 += 0.00000002217 * Math.cos(5.60216247483 + 2310.722314814 * t);
-        X1 += 0.00000002312 * Math.cos(5.81192933715 + 724.8308132679 * t);
-        X1 += 0.00000002379 * Math.cos(0.86162227365 + 1457.525933062 * t);
-        X1 += 0.00000002636 * Math.cos(0.30028112725 + 649.4585138696 * t);
-        X1 += 0.00000002635 * Math.cos(2.09112624929 + 9992.8729037722 * t);
-        X1 += 0.00000002459 * Math.cos(4.21812788054 + 468.2426886516 * t);
-        X1 += 0.00000002141 * Math.cos(2.44752114690 + 480.7728616238 * t);
-        X1 += 0.00000002220 * Math.cos(5.99215732892 + 525.7588118315 * t);
-        X1 += 0.00000002195 * Math.cos(0.95099493253 + 593.426863398 * t);
-        X1 += 0.00000002116 * Math.cos(3.28858497352 + 1382.8873468466 * t);
-        X1 += 0.00000002136 * Math.cos(1.09577252073 + 186.2117600641 * t);
-        X1 += 0.00000002275 * Math.cos(4.10907333096 + 393.4610900843 * t);
-        X1 += 0.00000002460 * Math.cos(2.08222252767 + 5650.2921106782 * t);
-        X1 += 0.00000002690 * Math.cos(5.21694504184 + 980.6681783588 * t);
-        X1 += 0.00000002847 * Math.cos(2.21208357060 + 927.8349679674 * t);
-        X1 += 0.00000002465 * Math.cos(2.83150372526 + 306.0969289181 * t);
-        X1 += 0.00000002153 * Math.cos(5.44863339657 + 232.942815411 * t);
-        X1 += 0.00000002597 * Math.cos(5.04726142112 + 426.7100654606 * t);
-        X1 += 0.00000002201 * Math.cos(2.69689845951 + 434.6749457233 * t);
-        X1 += 0.00000002057 * Math.cos(0.81369675900 + 298.2326223919 * t);
-        X1 += 0.00000002404 * Math.cos(3.51565880925 + 9580.5018068978 * t);
-        X1 += 0.00000002260 * Math.cos(4.11126690849 + 42.5382696529 * t);
-        X1 += 0.00000002242 * Math.cos(0.02196017056 + 774.4826299216 * t);
-        X1 += 0.00000001980 * Math.cos(6.26959509527 + 188.0263011725 * t);
-        X1 += 0.00000001947 * Math.cos(4.98845259619 + 141.2258098564 * t);
-        X1 += 0.00000002519 * Math.cos(5.65207938247 + 6489.2613984286 * t);
-        X1 += 0.00000002659 * Math.cos(4.98749485033 + 2744.4340526908 * t);
-        X1 += 0.00000002045 * Math.cos(5.94414624932 + 477.8039162072 * t);
-        X1 += 0.00000002463 * Math.cos(0.72737478637 + 629.6023455755 * t);
-        X1 += 0.00000002042 * Math.cos(0.22222750144 + 380.12776796 * t);
-        X1 += 0.00000001912 * Math.cos(2.15038299463 + 162.8965192589 * t);
-        X1 += 0.00000001901 * Math.cos(6.21446767804 + 271.4059194489 * t);
-        X1 += 0.00000002178 * Math.cos(3.04872502572 + 254.3528923826 * t);
-        X1 += 0.00000001872 * Math.cos(2.25107452526 + 905.8865797915 * t);
-        X1 += 0.00000001888 * Math.cos(0.97996534938 + 642.3449668688 * t);
-        X1 += 0.00000002170 * Math.cos(1.32347573273 + 1038.0412891868 * t);
-        X1 += 0.00000001899 * Math.cos(0.47442297068 + 1049.0869894507 * t);
-        X1 += 0.00000002182 * Math.cos(4.42761937882 + 426.8106391971 * t);
-        X1 += 0.00000001855 * Math.cos(0.70172463076 + 760.25553592 * t);
-        X1 += 0.00000001811 * Math.cos(0.95890385523 + 842.9014410135 * t);
-        X1 += 0.00000002347 * Math.cos(0.79433458213 + 10419.4710946482 * t);
-        X1 += 0.00000001793 * Math.cos(3.43045021055 + 419.4364597654 * t);
-        X1 += 0.00000001870 * Math.cos(4.48530468485 + 49.5088043018 * t);
-        X1 += 0.00000001788 * Math.cos(2.03408748606 + 170.7608257851 * t);
-        X1 += 0.00000001778 * Math.cos(2.30435271781 + 702.1487119091 * t);
-        X1 += 0.00000001796 * Math.cos(3.79385342755 + 240.3864308119 * t);
-        X1 += 0.00000001974 * Math.cos(0.40863452127 + 639.9454704238 * t);
-        X1 += 0.00000001773 * Math.cos(0.91546662134 + 990.2294059144 * t);
-        X1 += 0.00000001782 * Math.cos(4.64102920623 + 71.6002048296 * t);
-        X1 += 0.00000001823 * Math.cos(6.21733480836 + 2538.2485042536 * t);
-        X1 += 0.00000001977 * Math.cos(4.78604848197 + 1048.3362299253 * t);
-        X1 += 0.00000002481 * Math.cos(2.96642006057 + 105.5404547734 * t);
-        X1 += 0.00000002133 * Math.cos(1.74104444317 + 552.5855147745 * t);
-        X1 += 0.00000001999 * Math.cos(1.18716789706 + 6076.8903015542 * t);
-        X1 += 0.00000002182 * Math.cos(0.97387565779 + 426.3857425549 * t);
-        X1 += 0.00000001839 * Math.cos(5.55208370554 + 486.4019359163 * t);
-        X1 += 0.00000001980 * Math.cos(6.08475811682 + 206.2974230218 * t);
-        X1 += 0.00000001910 * Math.cos(4.61558595685 + 175.4266922311 * t);
-        X1 += 0.00000002379 * Math.cos(3.57535524190 + 594.6507036754 * t);
-        X1 += 0.00000001783 * Math.cos(3.93430854425 + 212.3358875915 * t);
-        X1 += 0.00000001733 * Math.cos(3.39728756412 + 705.1176573257 * t);
-        X1 += 0.00000001824 * Math.cos(0.43158734549 + 420.005908737 * t);
-        X1 += 0.00000001802 * Math.cos(4.09102296722 + 9566.2747128962 * t);
-        X1 += 0.00000001857 * Math.cos(3.09120325612 + 141.6988906084 * t);
-        X1 += 0.00000002035 * Math.cos(3.95594803721 + 481.7360694703 * t);
-        X1 += 0.00000001706 * Math.cos(0.75846006307 + 97.6761482472 * t);
-        X1 += 0.00000001861 * Math.cos(3.54944197324 + 5165.3626887242 * t);
-        X1 += 0.00000001713 * Math.cos(1.30182191650 + 457.617679513 * t);
-        X1 += 0.00000001826 * Math.cos(4.99126473800 + 484.7050148869 * t);
-        X1 += 0.00000001771 * Math.cos(3.57657405367 + 555.5544601911 * t);
-        X1 += 0.00000002042 * Math.cos(0.72463541689 + 6069.7767545534 * t);
-        X1 += 0.00000001664 * Math.cos(5.37724239080 + 1127.2624300768 * t);
-        X1 += 0.00000001863 * Math.cos(2.61132821127 + 10007.0999977738 * t);
-        X1 += 0.00000001691 * Math.cos(2.07854652969 + 789.4604834486 * t);
-        X1 += 0.00000001806 * Math.cos(4.28182661820 + 1193.9672737968 * t);
-        X1 += 0.00000001863 * Math.cos(3.43301421030 + 699.7010313543 * t);
-        X1 += 0.00000001651 * Math.cos(2.95151342978 + 152.5321425512 * t);
-        X1 += 0.00000001958 * Math.cos(3.34832715644 + 143.9341228421 * t);
-        X1 += 0.00000001804 * Math.cos(0.11880647530 + 353.301065017 * t);
-        X1 += 0.00000001746 * Math.cos(0.02529348358 + 3156.8051495652 * t);
-        X1 += 0.00000001643 * Math.cos(1.16931668732 + 1112.0721282287 * t);
-        X1 += 0.00000001572 * Math.cos(4.52454618070 + 91.7864415238 * t);
-        X1 += 0.00000001687 * Math.cos(5.79136509790 + 3046.5988283458 * t);
-        X1 += 0.00000001664 * Math.cos(6.06878282437 + 487.3651437628 * t);
-        X1 += 0.00000001753 * Math.cos(4.91984933534 + 3333.498879699 * t);
-        X1 += 0.00000001948 * Math.cos(4.60933876481 + 268.4369740323 * t);
-        X1 += 0.00000002018 * Math.cos(2.20128487926 + 9999.986450773 * t);
-        X1 += 0.00000001562 * Math.cos(2.75112579541 + 2001.4439921582 * t);
-        X1 += 0.00000001654 * Math.cos(4.67379220133 + 2957.7331481288 * t);
-        X1 += 0.00000001546 * Math.cos(2.42254478872 + 258.5456780766 * t);
-        X1 += 0.00000001712 * Math.cos(3.12113420418 + 26080.78959457339 * t);
-        X1 += 0.00000001531 * Math.cos(4.39131983815 + 5216.5803728014 * t);
-        X1 += 0.00000001619 * Math.cos(1.87868074566 + 784.0438574772 * t);
-        X1 += 0.00000001871 * Math.cos(0.40711466948 + 206.0736738526 * t);
-        X1 += 0.00000001732 * Math.cos(6.00644330186 + 1332.4847706675 * t);
-        X1 += 0.00000001686 * Math.cos(4.36569219379 + 3347.7259737006 * t);
-        X1 += 0.00000001553 * Math.cos(3.46070648954 + 1101.0264279648 * t);
-        X1 += 0.00000001674 * Math.cos(0.20458859876 + 305.0855369618 * t);
-        X1 += 0.00000001760 * Math.cos(6.06427820378 + 319.3126309634 * t);
-        X1 += 0.00000001661 * Math.cos(2.56966191326 + 26095.016688575 * t);
-        X1 += 0.00000001583 * Math.cos(0.21330050712 + 373.0142209592 * t);
-        X1 += 0.00000001737 * Math.cos(2.56050871400 + 622.4887985747 * t);
-        X1 += 0.00000001446 * Math.cos(0.64453355125 + 221.8971151471 * t);
-        X1 += 0.00000001446 * Math.cos(1.10349996175 + 204.7010757289 * t);
-        X1 += 0.00000001939 * Math.cos(4.11123627772 + 100.6450936638 * t);
-        X1 += 0.00000001424 * Math.cos(4.53013561217 + 140.001969579 * t);
-        X1 += 0.00000001452 * Math.cos(6.27129789493 + 1130.2313754934 * t);
-        X1 += 0.00000001874 * Math.cos(2.34106959221 + 769.8167634756 * t);
-        X1 += 0.00000001437 * Math.cos(3.70114244913 + 1044.4040766622 * t);
-        X1 += 0.00000001573 * Math.cos(0.97760246717 + 746.9222137957 * t);
-        X1 += 0.00000001428 * Math.cos(5.41858434640 + 1902.2833712027 * t);
-        X1 += 0.00000001536 * Math.cos(1.46680556033 + 213.2509113282 * t);
-        X1 += 0.00000001639 * Math.cos(5.07308302027 + 426.8588233069 * t);
-        X1 += 0.00000001565 * Math.cos(0.60408479572 + 392.6579409322 * t);
-        X1 += 0.00000001895 * Math.cos(1.71351370489 + 835.7878940127 * t);
-        X1 += 0.00000001395 * Math.cos(5.81475708274 + 9146.790069021 * t);
-        X1 += 0.00000001378 * Math.cos(2.63897520396 + 3163.918696566 * t);
-        X1 += 0.00000001467 * Math.cos(0.03938415892 + 827.9235874865 * t);
-        X1 += 0.00000001495 * Math.cos(3.04726766044 + 263.7016716171 * t);
-        X1 += 0.00000001506 * Math.cos(0.27403889742 + 251.1714986449 * t);
-        X1 += 0.00000001528 * Math.cos(0.65096988363 + 906.849787638 * t);
-        X1 += 0.00000001562 * Math.cos(0.64998564498 + 2516.9078632512 * t);
-        X1 += 0.00000001523 * Math.cos(0.15241954556 + 921.0768816396 * t);
-        X1 += 0.00000001335 * Math.cos(2.34002496567 + 2317.8358618148 * t);
-        X1 += 0.00000001578 * Math.cos(5.98549196472 + 190.4045457581 * t);
-        X1 += 0.00000001578 * Math.cos(5.18731950905 + 236.1936451179 * t);
-        X1 += 0.00000001731 * Math.cos(0.64743919781 + 1126.2992222303 * t);
-        X1 += 0.00000001526 * Math.cos(6.26405094967 + 180.1619946463 * t);
-        X1 += 0.00000001316 * Math.cos(4.88411707911 + 460.5384408198 * t);
-        X1 += 0.00000001322 * Math.cos(1.91541223458 + 2.4476805548 * t);
-        X1 += 0.00000001420 * Math.cos(1.14113479810 + 25.2727942655 * t);
-        X1 += 0.00000001334 * Math.cos(2.44221187031 + 282.6640680339 * t);
-        X1 += 0.00000001291 * Math.cos(4.75415505268 + 694.0719570618 * t);
-        X1 += 0.00000001279 * Math.cos(5.09345002137 + 449.232108125 * t);
-        X1 += 0.00000001287 * Math.cos(0.26504708130 + 286.596221297 * t);
-        X1 += 0.00000001401 * Math.cos(0.36474313629 + 2090.3096723752 * t);
-        X1 += 0.00000001745 * Math.cos(0.58733628110 + 2833.2997329078 * t);
-        X1 += 0.00000001481 * Math.cos(2.76192290396 + 31.492569389 * t);
-        X1 += 0.00000001251 * Math.cos(2.04507143625 + 909.8187330546 * t);
-        X1 += 0.00000001247 * Math.cos(4.64664167702 + 187.4356003415 * t);
-        X1 += 0.00000001247 * Math.cos(0.24298448957 + 239.1625905345 * t);
-        X1 += 0.00000001246 * Math.cos(1.79519085241 + 2487.4160449478 * t);
-        X1 += 0.00000001231 * Math.cos(4.07592990685 + 561.934294009 * t);
-        X1 += 0.00000001270 * Math.cos(2.19092299809 + 1176.7017984094 * t);
-        X1 += 0.00000001235 * Math.cos(3.39862257632 + 11926.2544136688 * t);
-        X1 += 0.00000001226 * Math.cos(5.24377580472 + 4127.3213995374 * t);
-        X1 += 0.00000001216 * Math.cos(5.52009945657 + 348.8476468921 * t);
-        X1 += 0.00000001229 * Math.cos(2.44579020325 + 51535.90899683439 * t);
-        X1 += 0.00000001477 * Math.cos(0.42597965987 + 401.3253966105 * t);
-        X1 += 0.00000001385 * Math.cos(4.26130043246 + 41.0537969446 * t);
-        X1 += 0.00000001197 * Math.cos(2.05343959731 + 1062.5633239269 * t);
-        X1 += 0.00000001614 * Math.cos(4.72661087242 + 3060.8259223474 * t);
-        X1 += 0.00000001560 * Math.cos(1.20558662172 + 614.6244920485 * t);
-        X1 += 0.00000001321 * Math.cos(0.66259853003 + 1773.9178027186 * t);
-        X1 += 0.00000001446 * Math.cos(1.52188920409 + 4628.5581766288 * t);
-        X1 += 0.00000001175 * Math.cos(4.77197454256 + 1681.1199692385 * t);
-        X1 += 0.00000001191 * Math.cos(3.68577950035 + 9595.2390892234 * t);
-        X1 += 0.00000001322 * Math.cos(4.91380958743 + 69.3649725959 * t);
-        X1 += 0.00000001449 * Math.cos(2.40222426931 + 1699.2792165032 * t);
-        X1 += 0.00000001168 * Math.cos(1.08248414293 + 74.6385862154 * t);
-        X1 += 0.00000001417 * Math.cos(6.20540616186 + 3473.1970192218 * t);
-        X1 += 0.00000001330 * Math.cos(0.04908988755 + 200.0352092829 * t);
-        X1 += 0.00000001330 * Math.cos(1.69894362545 + 226.5629815931 * t);
-        X1 += 0.00000001175 * Math.cos(1.75585408438 + 1674.0064222377 * t);
-        X1 += 0.00000001222 * Math.cos(0.38365380852 + 335.1418177523 * t);
-        X1 += 0.00000001406 * Math.cos(0.93043359633 + 700.6642392008 * t);
-        X1 += 0.00000001173 * Math.cos(0.89010724985 + 1159.2933106701 * t);
-        X1 += 0.00000001387 * Math.cos(5.73913384732 + 527.2432845398 * t);
-        X1 += 0.00000001124 * Math.cos(3.20599582504 + 2107.7181601145 * t);
-        X1 += 0.00000001536 * Math.cos(1.65574706063 + 1560.6187072806 * t);
-        X1 += 0.00000001114 * Math.cos(0.00659736078 + 25234.70675982219 * t);
-        X1 += 0.00000001108 * Math.cos(4.92316604415 + 1364.7280995819 * t);
-        X1 += 0.00000001408 * Math.cos(4.31689108869 + 336.8387387817 * t);
-        X1 += 0.00000001095 * Math.cos(4.58815212599 + 674.4282370888 * t);
-        X1 += 0.00000001091 * Math.cos(4.75459799081 + 1688.2335162393 * t);
-        X1 += 0.00000001351 * Math.cos(3.03972655282 + 179.3588454942 * t);
-        X1 += 0.00000001112 * Math.cos(5.86445814326 + 1144.3154571431 * t);
-        X1 += 0.00000001167 * Math.cos(1.61776931498 + 1784.2127434571 * t);
-        X1 += 0.00000001166 * Math.cos(4.32147284453 + 634.4806603426 * t);
-        X1 += 0.00000001082 * Math.cos(2.33633445539 + 756.3233826569 * t);
-        X1 += 0.00000001121 * Math.cos(3.70392077079 + 366.0436863103 * t);
-        X1 += 0.00000001501 * Math.cos(1.96032246780 + 1244.226837624 * t);
-        X1 += 0.00000001341 * Math.cos(4.97730299975 + 4312.1663069722 * t);
-        X1 += 0.00000001217 * Math.cos(2.01609497062 + 2005.3761454213 * t);
-        X1 += 0.00000001284 * Math.cos(1.71254545492 + 313.9441891018 * t);
-        X1 += 0.00000001288 * Math.cos(1.85993541573 + 247.2393453818 * t);
-        X1 += 0.00000001044 * Math.cos(2.12933199281 + 2634.2277314714 * t);
-        X1 += 0.00000001294 * Math.cos(4.62842427087 + 1190.0351205337 * t);
-        X1 += 0.00000001070 * Math.cos(1.14804635779 + 3597.6304344428 * t);
-        X1 += 0.00000001255 * Math.cos(3.41668691558 + 691.1030116452 * t);
-        X1 += 0.00000001154 * Math.cos(5.74451178912 + 2921.1277828246 * t);
-        X1 += 0.00000001040 * Math.cos(2.45361513153 + 988.532484885 * t);
-        X1 += 0.00000001090 * Math.cos(0.54953140818 + 1314.3255234028 * t);
-        X1 += 0.00000001171 * Math.cos(3.94743052221 + 672.1406152284 * t);
-        X1 += 0.00000001084 * Math.cos(2.22846759206 + 140.9651774255 * t);
-        X1 += 0.00000001014 * Math.cos(0.72711076947 + 606.7601855223 * t);
-        X1 += 0.00000001069 * Math.cos(5.34533726393 + 1.2720243872 * t);
-        X1 += 0.00000001146 * Math.cos(0.33774172888 + 220.3007678542 * t);
-        X1 += 0.00000001287 * Math.cos(5.96335995053 + 72.3339180125 * t);
-        X1 += 0.00000001195 * Math.cos(3.17169864377 + 1459.9565672743 * t);
-        X1 += 0.00000001005 * Math.cos(4.27372798502 + 1585.1407420207 * t);
-        X1 += 0.00000001118 * Math.cos(5.41372662205 + 1534.7381658416 * t);
-        X1 += 0.00000001008 * Math.cos(4.07813930825 + 3906.9087570986 * t);
-        X1 += 0.00000001032 * Math.cos(2.56286714079 + 241.8709035202 * t);
-        X1 += 0.00000001032 * Math.cos(2.32675902580 + 184.7272873558 * t);
-        X1 += 0.00000001129 * Math.cos(2.05923392074 + 480.251596762 * t);
-        X1 += 0.00000001080 * Math.cos(2.61393080860 + 681.5417840896 * t);
-        X1 += 0.00000001095 * Math.cos(4.52873181843 + 745.9108218394 * t);
-        X1 += 0.00000001111 * Math.cos(3.94287042483 + 25668.418497699 * t);
-        X1 += 0.00000001035 * Math.cos(3.02167382117 + 235.933012687 * t);
-        X1 += 0.00000001128 * Math.cos(3.92303838555 + 398.2870152247 * t);
-        X1 += 0.00000001040 * Math.cos(1.29012272000 + 6.592282139 * t);
-        X1 += 0.00000001315 * Math.cos(2.76743227504 + 1791.3262904579 * t);
-        X1 += 0.00000001110 * Math.cos(5.08486528001 + 731.6837278378 * t);
-        X1 += 0.00000000965 * Math.cos(5.76694781738 + 17.4084877393 * t);
-        X1 += 0.00000001130 * Math.cos(3.37351057745 + 5481.7545583808 * t);
-        X1 += 0.00000000958 * Math.cos(4.98632174581 + 1246.6574718363 * t);
-        X1 += 0.00000001193 * Math.cos(0.98399514662 + 1468.5716333259 * t);
-        X1 += 0.00000001277 * Math.cos(5.88447485498 + 322.6116447801 * t);
-        X1 += 0.00000001122 * Math.cos(5.46861037898 + 6467.9257579616 * t);
-        X1 += 0.00000001202 * Math.cos(3.77471511835 + 418.7338843498 * t);
-        X1 += 0.00000001079 * Math.cos(6.27953776977 + 2906.900688823 * t);
-        X1 += 0.00000001073 * Math.cos(1.54239618673 + 494.4786907636 * t);
-        X1 += 0.00000000942 * Math.cos(3.50136124997 + 114.8721876654 * t);
-        X1 += 0.00000001020 * Math.cos(5.66644343999 + 2627.1141844706 * t);
-        X1 += 0.00000000941 * Math.cos(3.67244160492 + 119.767548775 * t);
-        X1 += 0.00000000996 * Math.cos(3.06872191440 + 4863.1979130692 * t);
-        X1 += 0.00000001059 * Math.cos(4.47743859511 + 25654.19140369739 * t);
-        X1 += 0.00000000986 * Math.cos(1.95549483874 + 5842.2505651138 * t);
-        X1 += 0.00000001051 * Math.cos(0.87183660869 + 5268.4554629428 * t);
-        X1 += 0.00000000941 * Math.cos(5.52302306397 + 97.4155158163 * t);
-        X1 += 0.00000000945 * Math.cos(2.54544364353 + 205.9731001161 * t);
-        X1 += 0.00000000945 * Math.cos(5.48577517665 + 220.6250907599 * t);
-        X1 += 0.00000001084 * Math.cos(0.76684360231 + 2435.155730035 * t);
-        X1 += 0.00000000912 * Math.cos(5.29401262474 + 1041.2226829245 * t);
-        X1 += 0.00000000912 * Math.cos(3.45128782828 + 952.0963702766 * t);
-        X1 += 0.00000000906 * Math.cos(2.01145804191 + 12779.4507954208 * t);
-        X1 += 0.00000000914 * Math.cos(0.94055736317 + 306.830642101 * t);
-        X1 += 0.00000000914 * Math.cos(6.06812228447 + 285.3723810196 * t);
-        X1 += 0.00000001034 * Math.cos(1.11923710876 + 1152.1797636693 * t);
-        X1 += 0.00000000956 * Math.cos(4.61179207909 + 1570.9136480191 * t);
-        X1 += 0.00000000941 * Math.cos(1.65119763294 + 3583.4033404412 * t);
-        X1 += 0.00000000925 * Math.cos(0.19129473176 + 1365.4788591073 * t);
-        X1 += 0.00000000909 * Math.cos(2.92059650634 + 1250.5896250994 * t);
-        X1 += 0.00000000891 * Math.cos(4.95998693708 + 4443.713269194 * t);
-        X1 += 0.00000001133 * Math.cos(0.58698978086 + 318.8395502114 * t);
-        X1 += 0.00000001094 * Math.cos(6.25709701419 + 738.7972748386 * t);
-        X1 += 0.00000001011 * Math.cos(3.98083146356 + 138.6605092226 * t);
-        X1 += 0.00000001073 * Math.cos(4.34308945034 + 875.830299001 * t);
-        X1 += 0.00000000884 * Math.cos(5.13674590808 + 2218.6752408593 * t);
-        X1 += 0.00000001131 * Math.cos(3.49207338910 + 639.8491022042 * t);
-        X1 += 0.00000001014 * Math.cos(3.84499571511 + 246.4361962297 * t);
-        X1 += 0.00000000921 * Math.cos(3.37898558991 + 9772.4602613334 * t);
-        X1 += 0.00000000868 * Math.cos(4.95859132120 + 1371.8416465827 * t);
-        X1 += 0.00000000977 * Math.cos(1.73013107601 + 2648.454825473 * t);
-        X1 += 0.00000000940 * Math.cos(2.38470781473 + 287.9376816534 * t);
-        X1 += 0.00000000922 * Math.cos(5.27674146778 + 3686.4961146598 * t);
-        X1 += 0.00000000997 * Math.cos(5.10210718986 + 987.7817253596 * t);
-        X1 += 0.00000001061 * Math.cos(3.69387971075 + 688.6553310904 * t);
-        X1 += 0.00000000864 * Math.cos(5.36977054689 + 3370.1042450032 * t);
-        X1 += 0.00000001177 * Math.cos(0.16340430340 + 1328.5526174044 * t);
-        X1 += 0.00000000860 * Math.cos(1.23158588637 + 12146.6670561076 * t);
-        X1 += 0.00000001119 * Math.cos(4.95005326610 + 6283.0758499914 * t);
-        X1 += 0.00000000843 * Math.cos(5.00058816516 + 1239.5439248355 * t);
-        X1 += 0.00000000846 * Math.cos(3.17553686252 + 2114.8317071153 * t);
-        X1 += 0.00000000863 * Math.cos(6.25214866516 + 3569.1762464396 * t);
-        X1 += 0.00000000886 * Math.cos(5.73302742834 + 3803.81598288 * t);
-        X1 += 0.00000000981 * Math.cos(1.46133083467 + 1471.0022675382 * t);
-        X1 += 0.00000000829 * Math.cos(6.17527627929 + 1372.5924061081 * t);
-        X1 += 0.00000001164 * Math.cos(6.03632211065 + 3391.4448860056 * t);
-        X1 += 0.00000001143 * Math.cos(0.31721576300 + 3149.6916025644 * t);
-        X1 += 0.00000000885 * Math.cos(3.21468341749 + 608.877797677 * t);
-        X1 += 0.00000000837 * Math.cos(1.26802412219 + 311.7260032106 * t);
-        X1 += 0.00000000827 * Math.cos(4.31418145925 + 1165.6560981455 * t);
-        X1 += 0.00000000904 * Math.cos(3.04051970684 + 477.0007670551 * t);
-        X1 += 0.00000000818 * Math.cos(4.24078420149 + 5055.1563675048 * t);
-        X1 += 0.00000000841 * Math.cos(3.88873056685 + 473.068613792 * t);
-        X1 += 0.00000000829 * Math.cos(0.77508627125 + 17.2654753874 * t);
-        X1 += 0.00000000842 * Math.cos(4.82411532711 + 831.1049812242 * t);
-        X1 += 0.00000001023 * Math.cos(1.90815772351 + 384.0599212231 * t);
-        X1 += 0.00000000998 * Math.cos(2.24448938053 + 938.8806682313 * t);
-        X1 += 0.00000001026 * Math.cos(3.07657450703 + 5378.6617841622 * t);
-        X1 += 0.00000000846 * Math.cos(6.04071273632 + 199.0238173266 * t);
-        X1 += 0.00000000846 * Math.cos(1.99050608386 + 227.5743735494 * t);
-        X1 += 0.00000001105 * Math.cos(4.93697328282 + 168.0525127994 * t);
-        X1 += 0.00000000872 * Math.cos(5.56428111751 + 3362.9906980024 * t);
-        X1 += 0.00000001054 * Math.cos(4.19921163644 + 93.531546663 * t);
-        X1 += 0.00000000839 * Math.cos(2.01987352433 + 220.2001941177 * t);
-        X1 += 0.00000000839 * Math.cos(6.01134529585 + 206.3979967583 * t);
-        X1 += 0.00000000826 * Math.cos(3.67485221518 + 219.891377577 * t);
-        X1 += 0.00000000853 * Math.cos(1.21635018066 + 539.9859058331 * t);
-        X1 += 0.00000000858 * Math.cos(5.69547658720 + 781.5961769224 * t);
-        X1 += 0.00000000853 * Math.cos(3.60553998035 + 1894.4190646765 * t);
-        X1 += 0.00000000813 * Math.cos(0.86230265041 + 1578.0271950199 * t);
-        X1 += 0.00000000967 * Math.cos(5.86676674618 + 151.260118164 * t);
-        X1 += 0.00000000858 * Math.cos(5.62583672873 + 973.554631358 * t);
-        X1 += 0.00000000877 * Math.cos(5.80298687705 + 3789.5888888784 * t);
-        X1 += 0.00000000976 * Math.cos(2.02721042666 + 395.105621487 * t);
-        X1 += 0.00000000851 * Math.cos(5.76766110685 + 2854.6403739102 * t);
-        X1 += 0.00000000768 * Math.cos(4.76896894601 + 4436.5997221932 * t);
-        X1 += 0.00000000763 * Math.cos(4.25581933060 + 198.1087935899 * t);
-        X1 += 0.00000000763 * Math.cos(3.77539948958 + 228.4893972861 * t);
-        X1 += 0.00000000767 * Math.cos(4.72483440810 + 838.218528225 * t);
-        X1 += 0.00000000949 * Math.cos(1.98321654363 + 945.9942152321 * t);
-        X1 += 0.00000000783 * Math.cos(2.27534905083 + 3494.5376602242 * t);
-        X1 += 0.00000000817 * Math.cos(0.82100313331 + 635.231419868 * t);
-        X1 += 0.00000000836 * Math.cos(5.87100604717 + 135.5485514541 * t);
-        X1 += 0.00000000762 * Math.cos(3.21569513818 + 5158.2491417234 * t);
-        X1 += 0.00000000861 * Math.cos(3.85100975973 + 782.3469364478 * t);
-        X1 += 0.00000000758 * Math.cos(1.43185126319 + 1997.5118388951 * t);
-        X1 += 0.00000000778 * Math.cos(6.03247429542 + 418.9633790134 * t);
-        X1 += 0.00000000822 * Math.cos(2.64020332721 + 5436.9930152402 * t);
-        X1 += 0.00000000752 * Math.cos(3.50936275717 + 313.4711083498 * t);
-        X1 += 0.00000000752 * Math.cos(1.38026340942 + 113.1270825262 * t);
-        X1 += 0.00000000834 * Math.cos(5.85070280153 + 763.4369296577 * t);
-        X1 += 0.00000000871 * Math.cos(6.01814655144 + 2943.5060541272 * t);
-        X1 += 0.00000000901 * Math.cos(3.75914830730 + 444.0066786153 * t);
-        X1 += 0.00000000903 * Math.cos(0.23029877348 + 123.5396433437 * t);
-        X1 += 0.00000001009 * Math.cos(1.90046156811 + 1987.2168981566 * t);
-        X1 += 0.00000000750 * Math.cos(2.15136621786 + 5282.6825569444 * t);
-        X1 += 0.00000001016 * Math.cos(2.37444689169 + 1264.816719101 * t);
-        X1 += 0.00000000874 * Math.cos(0.93951630481 + 1475.6851803267 * t);
-        X1 += 0.00000000972 * Math.cos(2.20085561714 + 1670.82502850 * t);
-        X1 += 0.00000000738 * Math.cos(2.52567101420 + 109.3125493421 * t);
-        X1 += 0.00000000895 * Math.cos(0.54186785098 + 1119.1856752295 * t);
-        X1 += 0.00000000798 * Math.cos(3.47587781714 + 495.9631634719 * t);
-        X1 += 0.00000000828 * Math.cos(1.25150197790 + 114.9416236346 * t);
-        X1 += 0.00000000793 * Math.cos(0.39999568942 + 4017.115078318 * t);
-        X1 += 0.00000000882 * Math.cos(3.55674331780 + 2442.2692770358 * t);
-        X1 += 0.00000000979 * Math.cos(0.47406023937 + 2406.7015420318 * t);
-        X1 += 0.00000000817 * Math.cos(2.10021317616 + 1257.7031721002 * t);
-        X1 += 0.00000000717 * Math.cos(3.99283768764 + 103925.01437542078 * t);
-        X1 += 0.00000000743 * Math.cos(3.44205402388 + 5422.7659212386 * t);
-        X1 += 0.00000000714 * Math.cos(4.46118510280 + 2115.5824666407 * t);
-        X1 += 0.00000000719 * Math.cos(1.08999404688 + 501.2367770914 * t);
-        X1 += 0.00000000930 * Math.cos(1.32861036715 + 1877.0105769372 * t);
-        X1 += 0.00000000815 * Math.cos(0.61360086763 + 1792.0770499833 * t);
-        X1 += 0.00000000800 * Math.cos(4.13459764986 + 9367.2027114598 * t);
-        X1 += 0.00000000736 * Math.cos(2.54656520137 + 1460.7073267997 * t);
-        X1 += 0.00000000722 * Math.cos(0.84796954175 + 878.3261636656 * t);
-        X1 += 0.00000000824 * Math.cos(4.45776575023 + 498.9321088885 * t);
-        X1 += 0.00000000705 * Math.cos(6.07014928564 + 275.338072712 * t);
-        X1 += 0.00000000728 * Math.cos(1.24535456741 + 51742.09454527159 * t);
-        X1 += 0.00000000957 * Math.cos(4.34122317540 + 433.663553767 * t);
-        X1 += 0.00000000697 * Math.cos(4.70224891228 + 3274.1250177854 * t);
-        X1 += 0.00000000711 * Math.cos(1.89998090537 + 205.9249160063 * t);
-        X1 += 0.00000000711 * Math.cos(6.13123791481 + 220.6732748697 * t);
-        X1 += 0.00000000694 * Math.cos(1.61522962867 + 664.2763087022 * t);
-        X1 += 0.00000000829 * Math.cos(5.32110039039 + 4415.2590811908 * t);
-        X1 += 0.00000000721 * Math.cos(4.58275654686 + 952.3570027075 * t);
-        X1 += 0.00000000692 * Math.cos(0.62893428225 + 754.0357607965 * t);
-        X1 += 0.00000000795 * Math.cos(5.56415917977 + 19786.67380610799 * t);
-        X1 += 0.00000000689 * Math.cos(3.82241010942 + 1037.2905296614 * t);
-        X1 += 0.00000000706 * Math.cos(1.12328566050 + 644.56315276 * t);
-        X1 += 0.00000000773 * Math.cos(5.74997493496 + 620.253566341 * t);
-        X1 += 0.00000000692 * Math.cos(5.57318772640 + 25448.00585526019 * t);
-        X1 += 0.00000000692 * Math.cos(2.81881748057 + 1165.3954657146 * t);
-        X1 += 0.00000000808 * Math.cos(1.55707064891 + 817.628646748 * t);
-        X1 += 0.00000000681 * Math.cos(0.26530171784 + 100.3844612329 * t);
-        X1 += 0.00000000953 * Math.cos(0.59117119093 + 2826.186185907 * t);
-        X1 += 0.00000000826 * Math.cos(1.27188705580 + 284.8993002676 * t);
-        X1 += 0.00000000695 * Math.cos(4.58296836233 + 3171.0322435668 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 481 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00560746334 * Math.cos(1.26401632282 + 206.1855484372 * t);
-        X2 += 0.00545834518 * Math.cos(3.62343709657 + 220.4126424388 * t);
-        X2 -= 0.00443342186;
-        X2 += 0.00336109713 * Math.cos(2.42547432460 + 213.299095438 * t);
-        X2 += 0.00224302269 * Math.cos(2.49151203519 + 426.598190876 * t);
-        X2 += 0.00087170924 * Math.cos(4.89048951691 + 7.1135470008 * t);
-        X2 += 0.00050028094 * Math.cos(2.70119046081 + 433.7117378768 * t);
-        X2 += 0.00045122590 * Math.cos(0.36735068943 + 419.4846438752 * t);
-        X2 += 0.00032847824 * Math.cos(1.59210153669 + 639.897286314 * t);
-        X2 += 0.00027153555 * Math.cos(3.49804002218 + 227.5261894396 * t);
-        X2 += 0.00012676167 * Math.cos(1.45465729530 + 199.0720014364 * t);
-        X2 += 0.00010330738 * Math.cos(4.76949531290 + 14.2270940016 * t);
-        X2 += 0.00007249149 * Math.cos(5.70264553247 + 110.2063212194 * t);
-        X2 += 0.00004653214 * Math.cos(1.83710048213 + 647.0108333148 * t);
-        X2 += 0.00004923585 * Math.cos(3.08463039042 + 216.4804891757 * t);
-        X2 += 0.00004777358 * Math.cos(1.81695155349 + 210.1177017003 * t);
-        X2 += 0.00004166633 * Math.cos(5.32887874226 + 316.3918696566 * t);
-        X2 += 0.00003508385 * Math.cos(0.78251653369 + 853.196381752 * t);
-        X2 += 0.00002660470 * Math.cos(3.16731393212 + 209.3669421749 * t);
-        X2 += 0.00002538027 * Math.cos(2.65097612407 + 440.8252848776 * t);
-        X2 += 0.00002568114 * Math.cos(1.74024228572 + 217.2312487011 * t);
-        X2 += 0.00002503277 * Math.cos(4.69450368911 + 117.3198682202 * t);
-        X2 += 0.00002506986 * Math.cos(1.74781817701 + 103.0927742186 * t);
-        X2 += 0.00002129256 * Math.cos(0.28453141367 + 632.7837393132 * t);
-        X2 += 0.00001841989 * Math.cos(3.99269872894 + 323.5054166574 * t);
-        X2 += 0.00001228511 * Math.cos(0.42906039519 + 412.3710968744 * t);
-        X2 += 0.00000804732 * Math.cos(3.35740706049 + 234.6397364404 * t);
-        X2 += 0.00000796407 * Math.cos(1.09483823163 + 202.2533951741 * t);
-        X2 += 0.00000545426 * Math.cos(5.78793713141 + 95.9792272178 * t);
-        X2 += 0.00000732525 * Math.cos(3.86150260922 + 224.3447957019 * t);
-        X2 += 0.00000440358 * Math.cos(3.59840290265 + 330.6189636582 * t);
-        X2 += 0.00000426791 * Math.cos(1.00483231522 + 860.3099287528 * t);
-        X2 += 0.00000391974 * Math.cos(0.69006482495 + 11.0457002639 * t);
-        X2 += 0.00000455657 * Math.cos(3.49866480518 + 522.5774180938 * t);
-        X2 += 0.00000440217 * Math.cos(4.62429695267 + 21.3406410024 * t);
-        X2 += 0.00000403719 * Math.cos(2.95386471404 + 223.5940361765 * t);
-        X2 += 0.00000399321 * Math.cos(2.21962287963 + 429.7795846137 * t);
-        X2 += 0.00000456586 * Math.cos(5.31237952032 + 529.6909650946 * t);
-        X2 += 0.00000337931 * Math.cos(0.01742527415 + 1066.49547719 * t);
-        X2 += 0.00000306480 * Math.cos(4.44235835495 + 3.1813937377 * t);
-        X2 += 0.00000353827 * Math.cos(2.08574838147 + 422.6660376129 * t);
-        X2 += 0.00000277766 * Math.cos(3.99263414764 + 3.9321532631 * t);
-        X2 += 0.00000266087 * Math.cos(1.10605005957 + 423.4167971383 * t);
-        X2 += 0.00000244552 * Math.cos(1.81855172211 + 654.1243803156 * t);
-        X2 += 0.00000252757 * Math.cos(5.58633314063 + 88.865680217 * t);
-        X2 += 0.00000263461 * Math.cos(3.32945622126 + 124.433415221 * t);
-        X2 += 0.00000198166 * Math.cos(1.75391782582 + 191.9584544356 * t);
-        X2 += 0.00000193213 * Math.cos(2.35512750520 + 149.5631971346 * t);
-        X2 += 0.00000223879 * Math.cos(2.03081321297 + 203.0041546995 * t);
-        X2 += 0.00000168136 * Math.cos(2.77171654378 + 536.8045120954 * t);
-        X2 += 0.00000194617 * Math.cos(2.64597558735 + 625.6701923124 * t);
-        X2 += 0.00000163324 * Math.cos(3.33300066749 + 515.463871093 * t);
-        X2 += 0.00000165093 * Math.cos(4.45996436178 + 742.9900605326 * t);
-        X2 += 0.00000132687 * Math.cos(3.18963228913 + 302.164775655 * t);
-        X2 += 0.00000171957 * Math.cos(1.26865256659 + 309.2783226558 * t);
-        X2 += 0.00000117070 * Math.cos(2.50733253747 + 277.0349937414 * t);
-        X2 += 0.00000105122 * Math.cos(4.21584969999 + 10.2949407385 * t);
-        X2 += 0.00000123227 * Math.cos(3.28227189007 + 437.6438911399 * t);
-        X2 += 0.00000125141 * Math.cos(2.95191338477 + 735.8765135318 * t);
-        X2 += 0.00000093822 * Math.cos(3.96019060061 + 415.5524906121 * t);
-        X2 += 0.00000094722 * Math.cos(1.91659373538 + 430.5303441391 * t);
-        X2 += 0.00000083689 * Math.cos(2.71914140150 + 838.9692877504 * t);
-        X2 += 0.00000082638 * Math.cos(2.55445861205 + 447.9388318784 * t);
-        X2 += 0.00000080263 * Math.cos(4.59656702040 + 231.4583427027 * t);
-        X2 += 0.00000099292 * Math.cos(0.19488585950 + 846.0828347512 * t);
-        X2 += 0.00000068111 * Math.cos(2.06467676396 + 728.762966531 * t);
-        X2 += 0.00000058325 * Math.cos(5.16302254216 + 18.1592472647 * t);
-        X2 += 0.00000060855 * Math.cos(4.72378802668 + 1059.3819301892 * t);
-        X2 += 0.00000047763 * Math.cos(2.86136089141 + 831.8557407496 * t);
-        X2 += 0.00000046261 * Math.cos(2.73731796011 + 543.9180590962 * t);
-        X2 += 0.00000044407 * Math.cos(3.49489031748 + 195.1398481733 * t);
-        X2 += 0.00000046269 * Math.cos(0.00721267106 + 408.4389436113 * t);
-        X2 += 0.00000039947 * Math.cos(0.19404411224 + 1073.6090241908 * t);
-        X2 += 0.00000044324 * Math.cos(3.66000096605 + 942.062061969 * t);
-        X2 += 0.00000040117 * Math.cos(3.78886773763 + 618.5566453116 * t);
-        X2 += 0.00000034250 * Math.cos(1.53749032009 + 362.8622925726 * t);
-        X2 += 0.00000029256 * Math.cos(4.45268167111 + 113.3877149571 * t);
-        X2 += 0.00000039963 * Math.cos(1.19231439925 + 635.9651330509 * t);
-        X2 += 0.00000036033 * Math.cos(0.17719563899 + 222.8603229936 * t);
-        X2 += 0.00000030069 * Math.cos(5.33792974143 + 269.9214467406 * t);
-        X2 += 0.00000030472 * Math.cos(5.98247335753 + 56.6223513026 * t);
-        X2 += 0.00000033922 * Math.cos(2.16638149890 + 436.8931316145 * t);
-        X2 += 0.00000036126 * Math.cos(4.68227909720 + 203.7378678824 * t);
-        X2 += 0.00000037115 * Math.cos(2.14610110670 + 85.8272988312 * t);
-        X2 += 0.00000034387 * Math.cos(1.38650218399 + 643.0786800517 * t);
-        X2 += 0.00000031940 * Math.cos(2.72057591859 + 337.732510659 * t);
-        X2 += 0.00000026971 * Math.cos(2.72612032459 + 131.5469622218 * t);
-        X2 += 0.00000027368 * Math.cos(2.04598732204 + 750.1036075334 * t);
-        X2 += 0.00000027531 * Math.cos(2.70002288706 + 1155.361157407 * t);
-        X2 += 0.00000029852 * Math.cos(5.52245298759 + 1279.794572628 * t);
-        X2 += 0.00000024974 * Math.cos(2.01509072208 + 76.2660712756 * t);
-        X2 += 0.00000023978 * Math.cos(5.72658252294 + 81.7521332162 * t);
-        X2 += 0.00000025348 * Math.cos(4.59248158354 + 483.2205421786 * t);
-        X2 += 0.00000023209 * Math.cos(1.00054522408 + 867.4234757536 * t);
-        X2 += 0.00000029973 * Math.cos(2.80914584336 + 1052.2683831884 * t);
-        X2 += 0.00000024053 * Math.cos(2.13776973874 + 70.8494453042 * t);
-        X2 += 0.00000022243 * Math.cos(1.71446739713 + 1045.1548361876 * t);
-        X2 += 0.00000021018 * Math.cos(3.79760928662 + 160.6088973985 * t);
-        X2 += 0.00000020693 * Math.cos(0.86918818398 + 288.0806940053 * t);
-        X2 += 0.00000020294 * Math.cos(2.15135194296 + 22.0914005278 * t);
-        X2 += 0.00000019907 * Math.cos(4.59466677736 + 106.2741679563 * t);
-        X2 += 0.00000020372 * Math.cos(2.57894069574 + 1148.2476104062 * t);
-        X2 += 0.00000020650 * Math.cos(2.97740334682 + 107.0249274817 * t);
-        X2 += 0.00000019289 * Math.cos(0.57571935130 + 497.4476361802 * t);
-        X2 += 0.00000020261 * Math.cos(4.29218327913 + 956.2891559706 * t);
-        X2 += 0.00000018339 * Math.cos(2.84693406442 + 949.1756089698 * t);
-        X2 += 0.00000020406 * Math.cos(1.27038102659 + 416.3032501375 * t);
-        X2 += 0.00000015869 * Math.cos(0.47111865673 + 628.8515860501 * t);
-        X2 += 0.00000015417 * Math.cos(3.16623537199 + 241.7532834412 * t);
-        X2 += 0.00000019228 * Math.cos(3.46470845524 + 1258.4539316256 * t);
-        X2 += 0.00000017173 * Math.cos(1.19796410475 + 63.7358983034 * t);
-        X2 += 0.00000015274 * Math.cos(0.98168978226 + 265.9892934775 * t);
-        X2 += 0.00000016208 * Math.cos(6.04835517486 + 344.7030453079 * t);
-        X2 += 0.00000014885 * Math.cos(4.02075934746 + 138.5174968707 * t);
-        X2 += 0.00000019673 * Math.cos(2.08584329643 + 200.7689224658 * t);
-        X2 += 0.00000018610 * Math.cos(6.17356580287 + 142.4496501338 * t);
-        X2 += 0.00000017400 * Math.cos(2.80888774149 + 340.7708920448 * t);
-        X2 += 0.00000018185 * Math.cos(2.80414739937 + 225.8292684102 * t);
-        X2 += 0.00000017671 * Math.cos(3.74153777529 + 934.9485149682 * t);
-        X2 += 0.00000013724 * Math.cos(2.11658793699 + 358.9301393095 * t);
-        X2 += 0.00000013536 * Math.cos(6.03056178545 + 284.1485407422 * t);
-        X2 += 0.00000018157 * Math.cos(2.62423050197 + 52.6901980395 * t);
-        X2 += 0.00000013432 * Math.cos(4.50329976780 + 6290.1893969922 * t);
-        X2 += 0.00000012937 * Math.cos(0.85990781123 + 181.0557665236 * t);
-        X2 += 0.00000013012 * Math.cos(5.38330107399 + 191.2076949102 * t);
-        X2 += 0.00000014609 * Math.cos(5.58397686905 + 490.3340891794 * t);
-        X2 += 0.00000015756 * Math.cos(2.59168235746 + 650.9429865779 * t);
-        X2 += 0.00000012424 * Math.cos(3.40358544133 + 295.0512286542 * t);
-        X2 += 0.00000013121 * Math.cos(2.14481625328 + 6275.9623029906 * t);
-        X2 += 0.00000012303 * Math.cos(3.76145869505 + 444.7574381407 * t);
-        X2 += 0.00000012620 * Math.cos(5.92668313028 + 10220.3990932118 * t);
-        X2 += 0.00000011807 * Math.cos(0.06245578074 + 424.1505103212 * t);
-        X2 += 0.00000013151 * Math.cos(3.75285664218 + 1375.7737998458 * t);
-        X2 += 0.00000012327 * Math.cos(3.56818133002 + 10206.1719992102 * t);
-        X2 += 0.00000012370 * Math.cos(0.45725518260 + 405.2575498736 * t);
-        X2 += 0.00000011299 * Math.cos(2.87991803497 + 350.3321196004 * t);
-        X2 += 0.00000010780 * Math.cos(4.25191295553 + 127.4717966068 * t);
-        X2 += 0.00000011403 * Math.cos(2.50450346364 + 1471.7530270636 * t);
-        X2 += 0.00000010714 * Math.cos(4.01666936812 + 245.5424243524 * t);
-        X2 += 0.00000010231 * Math.cos(5.68395070282 + 703.6331846174 * t);
-        X2 += 0.00000013693 * Math.cos(0.82029906057 + 636.7158925763 * t);
-        X2 += 0.00000009828 * Math.cos(6.01694251061 + 12.5301729722 * t);
-        X2 += 0.00000011897 * Math.cos(3.52839576709 + 508.3503240922 * t);
-        X2 += 0.00000009302 * Math.cos(4.78562586259 + 9.5612275556 * t);
-        X2 += 0.00000009088 * Math.cos(2.27348136998 + 1464.6394800628 * t);
-        X2 += 0.00000010108 * Math.cos(5.58543192996 + 235.3904959658 * t);
-        X2 += 0.00000010079 * Math.cos(0.71634516078 + 351.8165923087 * t);
-        X2 += 0.00000008729 * Math.cos(1.48166465650 + 1361.5467058442 * t);
-        X2 += 0.00000008422 * Math.cos(1.74868225923 + 661.2379273164 * t);
-        X2 += 0.00000007887 * Math.cos(0.90663919997 + 565.1156877467 * t);
-        X2 += 0.00000010680 * Math.cos(4.78132423423 + 1162.4747044078 * t);
-        X2 += 0.00000008224 * Math.cos(3.53925468200 + 5849.3641121146 * t);
-        X2 += 0.00000007907 * Math.cos(5.89704027369 + 5863.5912061162 * t);
-        X2 += 0.00000007278 * Math.cos(2.70595502930 + 404.5067903482 * t);
-        X2 += 0.00000007690 * Math.cos(4.96283444092 + 9779.5738083342 * t);
-        X2 += 0.00000007394 * Math.cos(1.03743923255 + 9793.8009023358 * t);
-        X2 += 0.00000008652 * Math.cos(3.18495082254 + 1574.8458012822 * t);
-        X2 += 0.00000008794 * Math.cos(3.46778208926 + 1251.3403846248 * t);
-        X2 += 0.00000006698 * Math.cos(5.81865828240 + 121.2520214833 * t);
-        X2 += 0.00000006938 * Math.cos(0.68217212931 + 208.633228992 * t);
-        X2 += 0.00000006540 * Math.cos(5.53480497976 + 1589.0728952838 * t);
-        X2 += 0.00000006402 * Math.cos(0.36178333362 + 313.2104759189 * t);
-        X2 += 0.00000006778 * Math.cos(1.06356800619 + 217.964961884 * t);
-        X2 += 0.00000006524 * Math.cos(5.34330917422 + 429.0458714308 * t);
-        X2 += 0.00000006830 * Math.cos(3.24159116011 + 1265.5674786264 * t);
-        X2 += 0.00000008708 * Math.cos(2.46136750998 + 1368.660252845 * t);
-        X2 += 0.00000006147 * Math.cos(2.24199774873 + 319.5732633943 * t);
-        X2 += 0.00000008399 * Math.cos(3.30728600269 + 6283.0758499914 * t);
-        X2 += 0.00000007759 * Math.cos(5.80608441219 + 621.7380390493 * t);
-        X2 += 0.00000005864 * Math.cos(2.48238256439 + 114.1384744825 * t);
-        X2 += 0.00000007803 * Math.cos(4.71886465463 + 10213.285546211 * t);
-        X2 += 0.00000005490 * Math.cos(5.37820332227 + 347.8844390456 * t);
-        X2 += 0.00000005176 * Math.cos(6.27523527768 + 78.7137518304 * t);
-        X2 += 0.00000005330 * Math.cos(0.02876795001 + 842.1506814881 * t);
-        X2 += 0.00000006053 * Math.cos(2.87275112758 + 230.7075831773 * t);
-        X2 += 0.00000005825 * Math.cos(3.57519970065 + 1692.1656695024 * t);
-        X2 += 0.00000006109 * Math.cos(5.18591470990 + 195.8906076987 * t);
-        X2 += 0.00000006180 * Math.cos(4.65823145266 + 5856.4776591154 * t);
-        X2 += 0.00000004574 * Math.cos(5.23062124474 + 436.1594184316 * t);
-        X2 += 0.00000004886 * Math.cos(2.04925295464 + 643.8294395771 * t);
-        X2 += 0.00000004771 * Math.cos(2.23510815062 + 99.9113804809 * t);
-        X2 += 0.00000006196 * Math.cos(4.51127953775 + 1478.8665740644 * t);
-        X2 += 0.00000004608 * Math.cos(1.98433298440 + 757.2171545342 * t);
-        X2 += 0.00000005775 * Math.cos(6.08213006176 + 9786.687355335 * t);
-        X2 += 0.00000004718 * Math.cos(2.29208330722 + 1788.1448967202 * t);
-        X2 += 0.00000004271 * Math.cos(4.02086430435 + 175.1660598002 * t);
-        X2 += 0.00000004204 * Math.cos(0.80177985689 + 576.1613880106 * t);
-        X2 += 0.00000005585 * Math.cos(1.17248277846 + 479.2883889155 * t);
-        X2 += 0.00000004241 * Math.cos(1.02185101303 + 289.5651667136 * t);
-        X2 += 0.00000004564 * Math.cos(3.05464344806 + 824.7421937488 * t);
-        X2 += 0.00000004157 * Math.cos(3.77906712975 + 398.1440028728 * t);
-        X2 += 0.00000004220 * Math.cos(2.07841137450 + 1781.0313497194 * t);
-        X2 += 0.00000004026 * Math.cos(0.69077662766 + 251.4321310758 * t);
-        X2 += 0.00000004026 * Math.cos(6.02989448816 + 710.7467316182 * t);
-        X2 += 0.00000003978 * Math.cos(1.23202456620 + 134.5853436076 * t);
-        X2 += 0.00000003849 * Math.cos(3.00000494580 + 98.8999885246 * t);
-        X2 += 0.00000004233 * Math.cos(5.52392629908 + 1272.6810256272 * t);
-        X2 += 0.00000003768 * Math.cos(0.27912645686 + 501.3797894433 * t);
-        X2 += 0.00000004060 * Math.cos(6.14592131253 + 120.358249606 * t);
-        X2 += 0.00000004811 * Math.cos(3.22144835793 + 1567.7322542814 * t);
-        X2 += 0.00000004436 * Math.cos(5.60117640002 + 9999.986450773 * t);
-        X2 += 0.00000004369 * Math.cos(4.18650514859 + 6069.7767545534 * t);
-        X2 += 0.00000003636 * Math.cos(4.61510726006 + 526.5095713569 * t);
-        X2 += 0.00000003542 * Math.cos(0.63053476414 + 320.3240229197 * t);
-        X2 += 0.00000003320 * Math.cos(1.30344289880 + 1677.9385755008 * t);
-        X2 += 0.00000004195 * Math.cos(4.35216750323 + 333.657345044 * t);
-        X2 += 0.00000004387 * Math.cos(2.99277478849 + 1891.2376709388 * t);
-        X2 += 0.00000003275 * Math.cos(1.92414476769 + 166.828672522 * t);
-        X2 += 0.00000003574 * Math.cos(5.94779813906 + 156.6767441354 * t);
-        X2 += 0.00000003394 * Math.cos(3.09924988885 + 196.0336200506 * t);
-        X2 += 0.00000003533 * Math.cos(2.14645465127 + 114.3991069134 * t);
-        X2 += 0.00000004063 * Math.cos(3.20873890715 + 326.6868103951 * t);
-        X2 += 0.00000003816 * Math.cos(4.19418962192 + 611.4430983108 * t);
-        X2 += 0.00000002979 * Math.cos(1.23014225252 + 151.0476698429 * t);
-        X2 += 0.00000003909 * Math.cos(2.13168218024 + 1685.0521225016 * t);
-        X2 += 0.00000003741 * Math.cos(0.62287950834 + 849.2642284889 * t);
-        X2 += 0.00000003047 * Math.cos(1.79037600019 + 230.5645708254 * t);
-        X2 += 0.00000002898 * Math.cos(4.49254731802 + 74.7815985673 * t);
-        X2 += 0.00000002819 * Math.cos(6.19576518658 + 431.264057322 * t);
-        X2 += 0.00000002815 * Math.cos(5.27911903476 + 414.0680179038 * t);
-        X2 += 0.00000002928 * Math.cos(2.32767067793 + 395.578702239 * t);
-        X2 += 0.00000002894 * Math.cos(6.25242559802 + 381.3516082374 * t);
-        X2 += 0.00000003376 * Math.cos(4.35324654268 + 1795.258443721 * t);
-        X2 += 0.00000002805 * Math.cos(3.11849519950 + 259.769518354 * t);
-        X2 += 0.00000002798 * Math.cos(0.07338299890 + 129.9194771616 * t);
-        X2 += 0.00000003672 * Math.cos(3.34937216393 + 1581.959348283 * t);
-        X2 += 0.00000003377 * Math.cos(1.60711929937 + 299.1263942692 * t);
-        X2 += 0.00000002848 * Math.cos(3.32164076256 + 721.6494195302 * t);
-        X2 += 0.00000002783 * Math.cos(5.69239153569 + 1286.9081196288 * t);
-        X2 += 0.00000002535 * Math.cos(5.30267830354 + 305.3461693927 * t);
-        X2 += 0.00000002513 * Math.cos(5.92254424615 + 343.2185725996 * t);
-        X2 += 0.00000002465 * Math.cos(1.10304225755 + 572.2292347475 * t);
-        X2 += 0.00000002461 * Math.cos(3.95494769587 + 409.1897031367 * t);
-        X2 += 0.00000002580 * Math.cos(4.98676114859 + 1493.093668066 * t);
-        X2 += 0.00000002530 * Math.cos(3.91187247053 + 696.5196376166 * t);
-        X2 += 0.00000002623 * Math.cos(3.23676219968 + 554.0699874828 * t);
-        X2 += 0.00000002367 * Math.cos(5.12852371777 + 59.8037450403 * t);
-        X2 += 0.00000002945 * Math.cos(2.15064158133 + 551.031606097 * t);
-        X2 += 0.00000002813 * Math.cos(5.66780576556 + 421.93232443 * t);
-        X2 += 0.00000002415 * Math.cos(4.57966213445 + 45.5766510387 * t);
-        X2 += 0.00000002320 * Math.cos(4.04967284998 + 519.3960243561 * t);
-        X2 += 0.00000002211 * Math.cos(3.66247626749 + 275.5505210331 * t);
-        X2 += 0.00000002219 * Math.cos(3.42428116090 + 188.0263011725 * t);
-        X2 += 0.00000002193 * Math.cos(4.11153715755 + 205.2223405907 * t);
-        X2 += 0.00000002193 * Math.cos(3.91968166263 + 221.3758502853 * t);
-        X2 += 0.00000002329 * Math.cos(2.42556084705 + 144.1465711632 * t);
-        X2 += 0.00000002162 * Math.cos(4.60032858400 + 238.5718897035 * t);
-        X2 += 0.00000002149 * Math.cos(4.99715589626 + 916.9322800554 * t);
-        X2 += 0.00000002122 * Math.cos(0.04104438670 + 92.940845832 * t);
-        X2 += 0.00000002167 * Math.cos(2.71142444941 + 1169.5882514086 * t);
-        X2 += 0.00000002081 * Math.cos(4.93157740168 + 188.9200730498 * t);
-        X2 += 0.00000002175 * Math.cos(5.63002332525 + 432.2272651685 * t);
-        X2 += 0.00000002197 * Math.cos(5.91200043376 + 532.8723588323 * t);
-        X2 += 0.00000002595 * Math.cos(3.40305728866 + 2008.557539159 * t);
-        X2 += 0.00000002581 * Math.cos(2.20662036464 + 2097.423219376 * t);
-        X2 += 0.00000001984 * Math.cos(4.73063860465 + 5643.1785636774 * t);
-        X2 += 0.00000002385 * Math.cos(5.70410580283 + 69.1525242748 * t);
-        X2 += 0.00000002530 * Math.cos(2.66181688163 + 2207.6295405954 * t);
-        X2 += 0.00000002555 * Math.cos(0.25549086562 + 229.9738699944 * t);
-        X2 += 0.00000002555 * Math.cos(1.49254264738 + 196.6243208816 * t);
-        X2 += 0.00000002066 * Math.cos(3.32994609833 + 2627.1141844706 * t);
-        X2 += 0.00000002226 * Math.cos(2.84564999814 + 1141.1340634054 * t);
-        X2 += 0.00000002390 * Math.cos(2.56947989325 + 6062.6632075526 * t);
-        X2 += 0.00000002000 * Math.cos(4.63224542281 + 32.2433289144 * t);
-        X2 += 0.00000001968 * Math.cos(5.88733808823 + 131.4039498699 * t);
-        X2 += 0.00000001941 * Math.cos(3.37602923994 + 373.9079928365 * t);
-        X2 += 0.00000002353 * Math.cos(1.38929393306 + 650.1922270525 * t);
-        X2 += 0.00000001818 * Math.cos(3.03949571304 + 120.5012619579 * t);
-        X2 += 0.00000001834 * Math.cos(6.09045185685 + 561.1835344836 * t);
-        X2 += 0.00000002193 * Math.cos(1.56009056549 + 207.1487562837 * t);
-        X2 += 0.00000002193 * Math.cos(0.18794294751 + 219.4494345923 * t);
-        X2 += 0.00000002038 * Math.cos(1.74690830633 + 2413.8150890326 * t);
-        X2 += 0.00000001794 * Math.cos(6.11943078449 + 9573.388259897 * t);
-        X2 += 0.00000002272 * Math.cos(6.07078324928 + 135.336103133 * t);
-        X2 += 0.00000002404 * Math.cos(3.85253728397 + 927.8349679674 * t);
-        X2 += 0.00000001787 * Math.cos(6.24123350695 + 237.6781178262 * t);
-        X2 += 0.00000002251 * Math.cos(1.83411449763 + 145.6310438715 * t);
-        X2 += 0.00000001819 * Math.cos(0.51111183004 + 220.4608265486 * t);
-        X2 += 0.00000001819 * Math.cos(1.23692168296 + 206.1373643274 * t);
-        X2 += 0.00000001781 * Math.cos(2.63674790157 + 116.4260963429 * t);
-        X2 += 0.00000001884 * Math.cos(4.95154067042 + 556.5176680376 * t);
-        X2 += 0.00000001855 * Math.cos(4.36894863492 + 2111.6503133776 * t);
-        X2 += 0.00000001775 * Math.cos(6.08377383987 + 3259.8979237838 * t);
-        X2 += 0.00000002390 * Math.cos(0.57829722827 + 856.3777754897 * t);
-        X2 += 0.00000001749 * Math.cos(6.09665041146 + 417.0369633204 * t);
-        X2 += 0.00000001826 * Math.cos(1.86446006635 + 344.8460576598 * t);
-        X2 += 0.00000001811 * Math.cos(1.03035050506 + 570.7447620392 * t);
-        X2 += 0.00000001742 * Math.cos(5.37462069176 + 425.6349830295 * t);
-        X2 += 0.00000001971 * Math.cos(2.58560125016 + 1457.525933062 * t);
-        X2 += 0.00000002261 * Math.cos(3.11062462322 + 421.1815649046 * t);
-        X2 += 0.00000001691 * Math.cos(2.43995589654 + 455.0523788792 * t);
-        X2 += 0.00000002031 * Math.cos(2.29508293823 + 92.0470739547 * t);
-        X2 += 0.00000001703 * Math.cos(2.82714873836 + 427.5613987225 * t);
-        X2 += 0.00000001764 * Math.cos(2.79871920143 + 186.472392495 * t);
-        X2 += 0.00000001746 * Math.cos(3.36116416919 + 898.7730327907 * t);
-        X2 += 0.00000002282 * Math.cos(2.04372303495 + 439.1283638482 * t);
-        X2 += 0.00000001793 * Math.cos(5.82146283335 + 913.0001267923 * t);
-        X2 += 0.00000001639 * Math.cos(3.52013201939 + 2641.3412784722 * t);
-        X2 += 0.00000001651 * Math.cos(4.58235804409 + 546.956440482 * t);
-        X2 += 0.00000001869 * Math.cos(2.38958346848 + 3597.6304344428 * t);
-        X2 += 0.00000001597 * Math.cos(5.72930431899 + 280.9671470045 * t);
-        X2 += 0.00000001959 * Math.cos(2.68901201458 + 732.6951197941 * t);
-        X2 += 0.00000001737 * Math.cos(1.74570627953 + 167.7224443993 * t);
-        X2 += 0.00000002134 * Math.cos(2.95468156383 + 173.9422195228 * t);
-        X2 += 0.00000001585 * Math.cos(1.28840013434 + 1596.1864422846 * t);
-        X2 += 0.00000001946 * Math.cos(2.15176891932 + 2420.9286360334 * t);
-        X2 += 0.00000001581 * Math.cos(2.31500508773 + 258.8757464767 * t);
-        X2 += 0.00000001863 * Math.cos(2.20927715172 + 2104.5367663768 * t);
-        X2 += 0.00000001819 * Math.cos(4.43470604008 + 206.233732547 * t);
-        X2 += 0.00000001819 * Math.cos(3.59651278010 + 220.364458329 * t);
-        X2 += 0.00000001527 * Math.cos(3.04717303366 + 273.1028404783 * t);
-        X2 += 0.00000001709 * Math.cos(5.28726064030 + 81.8951455681 * t);
-        X2 += 0.00000001463 * Math.cos(0.43556587140 + 298.2326223919 * t);
-        X2 += 0.00000001894 * Math.cos(2.99138630157 + 1898.3512179396 * t);
-        X2 += 0.00000001895 * Math.cos(5.04730452650 + 291.262087743 * t);
-        X2 += 0.00000001546 * Math.cos(2.47057043174 + 739.8086667949 * t);
-        X2 += 0.00000001887 * Math.cos(2.94443665997 + 1884.124123938 * t);
-        X2 += 0.00000001423 * Math.cos(0.84203295561 + 201.5196819912 * t);
-        X2 += 0.00000001423 * Math.cos(0.90600055739 + 225.0785088848 * t);
-        X2 += 0.00000001491 * Math.cos(2.09090630362 + 240.125798381 * t);
-        X2 += 0.00000001913 * Math.cos(1.64596708222 + 295.1942410061 * t);
-        X2 += 0.00000001359 * Math.cos(1.56962491127 + 963.4027029714 * t);
-        X2 += 0.00000001390 * Math.cos(3.73504189572 + 731.9443602687 * t);
-        X2 += 0.00000001553 * Math.cos(0.23610855161 + 685.4739373527 * t);
-        X2 += 0.00000001352 * Math.cos(5.53246920435 + 5429.8794682394 * t);
-        X2 += 0.00000001323 * Math.cos(2.98882008525 + 980.6681783588 * t);
-        X2 += 0.00000001391 * Math.cos(3.35589924867 + 617.8058857862 * t);
-        X2 += 0.00000001330 * Math.cos(6.16179285989 + 3576.2897934404 * t);
-        X2 += 0.00000001414 * Math.cos(6.21368674613 + 1371.8416465827 * t);
-        X2 += 0.00000001700 * Math.cos(6.21800543945 + 563.6312150384 * t);
-        X2 += 0.00000001299 * Math.cos(3.53363256309 + 767.3690829208 * t);
-        X2 += 0.00000001674 * Math.cos(2.00015752559 + 2001.4439921582 * t);
-        X2 += 0.00000001259 * Math.cos(0.96011598153 + 850.0149880143 * t);
-        X2 += 0.00000001305 * Math.cos(1.37120991188 + 1994.3304451574 * t);
-        X2 += 0.00000001321 * Math.cos(4.37658999115 + 28.4541880032 * t);
-        X2 += 0.00000001379 * Math.cos(2.12052572095 + 2737.32050569 * t);
-        X2 += 0.00000001328 * Math.cos(2.58956206405 + 214.2623032845 * t);
-        X2 += 0.00000001328 * Math.cos(5.44165675613 + 212.3358875915 * t);
-        X2 += 0.00000001579 * Math.cos(3.34736370728 + 2324.9494088156 * t);
-        X2 += 0.00000001231 * Math.cos(4.50009391302 + 3178.1457905676 * t);
-        X2 += 0.00000001246 * Math.cos(0.67281854122 + 9360.089164459 * t);
-        X2 += 0.00000001219 * Math.cos(1.29311240207 + 945.9942152321 * t);
-        X2 += 0.00000001269 * Math.cos(3.22552060147 + 327.4375699205 * t);
-        X2 += 0.00000001664 * Math.cos(1.93237560590 + 252.6559713532 * t);
-        X2 += 0.00000001384 * Math.cos(2.21441962019 + 2524.021410252 * t);
-        X2 += 0.00000001544 * Math.cos(2.44379787028 + 1049.0869894507 * t);
-        X2 += 0.00000001268 * Math.cos(3.89702349681 + 472.1748419147 * t);
-        X2 += 0.00000001191 * Math.cos(2.11500805970 + 153.4953503977 * t);
-        X2 += 0.00000001404 * Math.cos(2.81178679147 + 312.4597163935 * t);
-        X2 += 0.00000001460 * Math.cos(1.98205310382 + 699.7010313543 * t);
-        X2 += 0.00000001222 * Math.cos(5.71175018863 + 213.3472795478 * t);
-        X2 += 0.00000001222 * Math.cos(2.31946863155 + 213.2509113282 * t);
-        X2 += 0.00000001167 * Math.cos(4.59358372111 + 193.655375465 * t);
-        X2 += 0.00000001167 * Math.cos(3.43763509907 + 232.942815411 * t);
-        X2 += 0.00000001163 * Math.cos(0.23385034682 + 148.0787244263 * t);
-        X2 += 0.00000001407 * Math.cos(3.99762884497 + 9992.8729037722 * t);
-        X2 += 0.00000001280 * Math.cos(0.87484258071 + 4120.2078525366 * t);
-        X2 += 0.00000001134 * Math.cos(1.53044808941 + 525.4981794006 * t);
-        X2 += 0.00000001336 * Math.cos(4.87465823527 + 1905.4647649404 * t);
-        X2 += 0.00000001155 * Math.cos(5.90518396544 + 67.6680515665 * t);
-        X2 += 0.00000001122 * Math.cos(4.02938519202 + 128.3655684841 * t);
-        X2 += 0.00000001305 * Math.cos(3.82342312832 + 96.8729990951 * t);
-        X2 += 0.00000001321 * Math.cos(0.98022217092 + 355.7487455718 * t);
-        X2 += 0.00000001105 * Math.cos(3.19584194807 + 1038.0412891868 * t);
-        X2 += 0.00000001431 * Math.cos(3.57196787982 + 1244.226837624 * t);
-        X2 += 0.00000001322 * Math.cos(6.14235561079 + 4216.1870797544 * t);
-        X2 += 0.00000001068 * Math.cos(5.90398865331 + 3892.681663097 * t);
-        X2 += 0.00000001346 * Math.cos(1.90158806441 + 2406.7015420318 * t);
-        X2 += 0.00000001154 * Math.cos(3.56014472151 + 184.8449074348 * t);
-        X2 += 0.00000001110 * Math.cos(1.17830763748 + 4017.115078318 * t);
-        X2 += 0.00000001288 * Math.cos(2.24776349764 + 629.6023455755 * t);
-        X2 += 0.00000001023 * Math.cos(4.46536500836 + 5636.0650166766 * t);
-        X2 += 0.00000001012 * Math.cos(3.59569868907 + 211.6021744086 * t);
-        X2 += 0.00000001012 * Math.cos(4.43552013111 + 214.9960164674 * t);
-        X2 += 0.00000001320 * Math.cos(5.94097955621 + 2964.8466951296 * t);
-        X2 += 0.00000000997 * Math.cos(6.16867640374 + 776.9303104764 * t);
-        X2 += 0.00000001175 * Math.cos(1.53687242309 + 2730.2069586892 * t);
-        X2 += 0.00000001377 * Math.cos(2.53741878844 + 1773.9178027186 * t);
-        X2 += 0.00000001124 * Math.cos(2.19052206601 + 3914.0223040994 * t);
-        X2 += 0.00000001193 * Math.cos(5.67235253062 + 4113.0943055358 * t);
-        X2 += 0.00000001237 * Math.cos(2.82498813081 + 2193.4024465938 * t);
-        X2 += 0.00000001196 * Math.cos(1.80112488667 + 2317.8358618148 * t);
-        X2 += 0.00000000954 * Math.cos(3.08188516695 + 206.706813299 * t);
-        X2 += 0.00000000954 * Math.cos(4.94933365323 + 219.891377577 * t);
-        X2 += 0.00000000952 * Math.cos(2.26143146849 + 1912.5783119412 * t);
-        X2 += 0.00000001022 * Math.cos(0.15232062073 + 3583.4033404412 * t);
-        X2 += 0.00000000973 * Math.cos(1.56107465656 + 181.806526049 * t);
-        X2 += 0.00000000973 * Math.cos(3.32855151003 + 244.791664827 * t);
-        X2 += 0.00000001300 * Math.cos(3.26495224133 + 835.7878940127 * t);
-        X2 += 0.00000001249 * Math.cos(2.51786044665 + 2516.9078632512 * t);
-        X2 += 0.00000001088 * Math.cos(3.90357892590 + 2428.0421830342 * t);
-        X2 += 0.00000000929 * Math.cos(0.45989104164 + 1475.6851803267 * t);
-        X2 += 0.00000000956 * Math.cos(2.56594245315 + 312.1990839626 * t);
-        X2 += 0.00000000953 * Math.cos(4.36298872930 + 3494.5376602242 * t);
-        X2 += 0.00000001186 * Math.cos(0.16724602956 + 3899.7952100978 * t);
-        X2 += 0.00000001062 * Math.cos(5.98827376052 + 4209.0735327536 * t);
-        X2 += 0.00000000986 * Math.cos(3.70856598989 + 3487.4241132234 * t);
-        X2 += 0.00000000917 * Math.cos(1.25571195126 + 601.7642506762 * t);
-        X2 += 0.00000001066 * Math.cos(0.73008144677 + 3686.4961146598 * t);
-        X2 += 0.00000000909 * Math.cos(1.10532095217 + 3149.6916025644 * t);
-        X2 += 0.00000001103 * Math.cos(1.66926766813 + 1262.3860848887 * t);
-        X2 += 0.00000000999 * Math.cos(5.63756377401 + 171.6545976624 * t);
-        X2 += 0.00000001020 * Math.cos(3.02702396710 + 2200.5159935946 * t);
-        X2 += 0.00000001082 * Math.cos(1.14306307216 + 1382.8873468466 * t);
-        X2 += 0.00000000937 * Math.cos(4.39130953119 + 525.7588118315 * t);
-        X2 += 0.00000000948 * Math.cos(5.39881740490 + 1809.4855377226 * t);
-        X2 += 0.00000000898 * Math.cos(5.87496744199 + 9566.2747128962 * t);
-        X2 += 0.00000001003 * Math.cos(2.89316477102 + 60.7669528868 * t);
-        X2 += 0.00000001048 * Math.cos(1.72895083338 + 3053.7123753466 * t);
-        X2 += 0.00000000878 * Math.cos(4.79905755156 + 4422.3726281916 * t);
-        X2 += 0.00000000883 * Math.cos(1.95148255924 + 2936.3925071264 * t);
-        X2 += 0.00000000920 * Math.cos(3.26816711188 + 458.8415197904 * t);
-        X2 += 0.00000001034 * Math.cos(2.00213945097 + 2840.4132799086 * t);
-        X2 += 0.00000001100 * Math.cos(5.41378028474 + 3267.0114707846 * t);
-        X2 += 0.00000000861 * Math.cos(0.31780761010 + 2943.5060541272 * t);
-        X2 += 0.00000000869 * Math.cos(5.85449793979 + 92.7978334801 * t);
-        X2 += 0.00000000923 * Math.cos(0.50147958719 + 731.6837278378 * t);
-        X2 += 0.00000000852 * Math.cos(6.02200914086 + 835.0371344873 * t);
-        X2 += 0.00000001019 * Math.cos(5.16657224921 + 558.0021407459 * t);
-        X2 += 0.00000000972 * Math.cos(5.47637157482 + 254.9435932136 * t);
-        X2 += 0.00000000908 * Math.cos(2.87474888027 + 745.9108218394 * t);
-        X2 += 0.00000000851 * Math.cos(3.39345244102 + 2957.7331481288 * t);
-        X2 += 0.00000000901 * Math.cos(1.75381864225 + 823.9914342234 * t);
-        X2 += 0.00000000885 * Math.cos(5.04038096483 + 1037.2905296614 * t);
-        X2 += 0.00000000828 * Math.cos(6.15073321813 + 60.5545045657 * t);
-        X2 += 0.00000000906 * Math.cos(4.89715205670 + 905.8865797915 * t);
-        X2 += 0.00000000825 * Math.cos(3.03654698989 + 99.1606209555 * t);
-        X2 += 0.00000000871 * Math.cos(2.37191353961 + 137.0330241624 * t);
-        X2 += 0.00000000944 * Math.cos(1.27319885318 + 1051.517623663 * t);
-        X2 += 0.00000000862 * Math.cos(3.15782546881 + 397.3932433474 * t);
-        X2 += 0.00000000807 * Math.cos(5.36535950366 + 3067.9394693482 * t);
-        X2 += 0.00000001110 * Math.cos(3.19832395458 + 739.0579072695 * t);
-        X2 += 0.00000001085 * Math.cos(0.07341193511 + 1176.7017984094 * t);
-        X2 += 0.00000001008 * Math.cos(3.63001056867 + 203.2647871304 * t);
-        X2 += 0.00000001008 * Math.cos(4.40120825151 + 223.3334037456 * t);
-        X2 += 0.00000000791 * Math.cos(2.01279017523 + 201.9927627432 * t);
-        X2 += 0.00000000791 * Math.cos(6.01842864495 + 224.6054281328 * t);
-        X2 += 0.00000000843 * Math.cos(4.81860966681 + 411.620337349 * t);
-        X2 += 0.00000000870 * Math.cos(5.83539286646 + 2648.454825473 * t);
-        X2 += 0.00000000948 * Math.cos(1.68350455637 + 215.7467759928 * t);
-        X2 += 0.00000001076 * Math.cos(1.39032879017 + 3789.5888888784 * t);
-        X2 += 0.00000000764 * Math.cos(1.39589682354 + 84.9335269539 * t);
-        X2 += 0.00000000893 * Math.cos(6.04799393738 + 1802.3719907218 * t);
-        X2 += 0.00000000934 * Math.cos(2.01855627131 + 2833.2997329078 * t);
-        X2 += 0.00000001041 * Math.cos(3.28284201181 + 1560.6187072806 * t);
-        X2 += 0.00000000885 * Math.cos(5.40300478280 + 4326.3934009738 * t);
-        X2 += 0.00000000832 * Math.cos(5.94730006536 + 4223.3006267552 * t);
-        X2 += 0.00000000962 * Math.cos(5.33472317723 + 214.0498549634 * t);
-        X2 += 0.00000000962 * Math.cos(2.69649564295 + 212.5483359126 * t);
-        X2 += 0.00000000751 * Math.cos(6.13617466887 + 3569.1762464396 * t);
-        X2 += 0.00000000744 * Math.cos(4.65729515884 + 278.5194664497 * t);
-        X2 += 0.00000000742 * Math.cos(4.70968645148 + 1119.1856752295 * t);
-        X2 += 0.00000000771 * Math.cos(5.80442543136 + 831.1049812242 * t);
-        X2 += 0.00000000759 * Math.cos(0.08689720924 + 778.4147831847 * t);
-        X2 += 0.00000000771 * Math.cos(1.93743302083 + 305.0855369618 * t);
-        X2 += 0.00000000744 * Math.cos(0.57331346787 + 504.561183181 * t);
-        X2 += 0.00000000726 * Math.cos(4.61903728311 + 2861.753920911 * t);
-        X2 += 0.00000000870 * Math.cos(2.38183712961 + 1056.2005364515 * t);
-        X2 += 0.00000000746 * Math.cos(0.23181387281 + 1080.7225711916 * t);
-        X2 += 0.00000000829 * Math.cos(4.76086686294 + 714.5358725294 * t);
-        X2 += 0.00000000954 * Math.cos(2.58974255609 + 205.6642835754 * t);
-        X2 += 0.00000000954 * Math.cos(5.44147626409 + 220.9339073006 * t);
-        X2 += 0.00000000907 * Math.cos(2.91202776680 + 2214.7430875962 * t);
-        X2 += 0.00000000911 * Math.cos(1.32688747464 + 3362.9906980024 * t);
-        X2 += 0.00000000896 * Math.cos(0.81358229052 + 1699.2792165032 * t);
-        X2 += 0.00000000823 * Math.cos(4.36594388653 + 2538.2485042536 * t);
-        X2 += 0.00000000715 * Math.cos(1.89070101229 + 760.25553592 * t);
-        X2 += 0.00000000942 * Math.cos(2.09563260663 + 953.1077622329 * t);
-        X2 += 0.00000000699 * Math.cos(0.89798477775 + 3466.083472221 * t);
-        X2 += 0.00000000704 * Math.cos(5.13636089217 + 306.0969289181 * t);
-        X2 += 0.00000000693 * Math.cos(5.51319068716 + 637.4496057592 * t);
-        X2 += 0.00000000732 * Math.cos(0.46520796438 + 172.2452984934 * t);
-        X2 += 0.00000000732 * Math.cos(4.42441820221 + 254.3528923826 * t);
-        X2 += 0.00000000945 * Math.cos(1.12211376563 + 388.4651552382 * t);
-        X2 += 0.00000000865 * Math.cos(2.55550857107 + 2509.7943162504 * t);
-        X2 += 0.00000000874 * Math.cos(2.39287375587 + 2090.3096723752 * t);
-        X2 += 0.00000000807 * Math.cos(4.61318661936 + 2221.856634597 * t);
-        X2 += 0.00000000686 * Math.cos(4.49678432054 + 2854.6403739102 * t);
-        X2 += 0.00000000785 * Math.cos(0.63645876992 + 4436.5997221932 * t);
-        X2 += 0.00000000716 * Math.cos(0.31353354367 + 3796.7024358792 * t);
-        X2 += 0.00000000714 * Math.cos(4.03037145569 + 3171.0322435668 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 215 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00077115952 * Math.cos(2.97714385362 + 206.1855484372 * t);
-        X3 += 0.00075340436 * Math.cos(1.89208005248 + 220.4126424388 * t);
-        X3 -= 0.00018450895;
-        X3 += 0.00010527244 * Math.cos(0.66368256891 + 426.598190876 * t);
-        X3 += 0.00008994946 * Math.cos(0.91696559755 + 433.7117378768 * t);
-        X3 += 0.00007403594 * Math.cos(1.78627385870 + 227.5261894396 * t);
-        X3 += 0.00008045160 * Math.cos(3.12864412887 + 7.1135470008 * t);
-        X3 += 0.00004505149 * Math.cos(2.24531319187 + 419.4846438752 * t);
-        X3 += 0.00003468010 * Math.cos(3.14590544446 + 199.0720014364 * t);
-        X3 += 0.00002974601 * Math.cos(6.00030641555 + 639.897286314 * t);
-        X3 += 0.00002342089 * Math.cos(3.06091771643 + 14.2270940016 * t);
-        X3 += 0.00001230715 * Math.cos(4.38196130069 + 213.299095438 * t);
-        X3 += 0.00001023888 * Math.cos(0.01138655869 + 647.0108333148 * t);
-        X3 += 0.00000788529 * Math.cos(0.89850292553 + 440.8252848776 * t);
-        X3 += 0.00000806346 * Math.cos(1.28205831043 + 216.4804891757 * t);
-        X3 += 0.00000768731 * Math.cos(3.61309275908 + 210.1177017003 * t);
-        X3 += 0.00000384249 * Math.cos(3.06233558203 + 117.3198682202 * t);
-        X3 += 0.00000431624 * Math.cos(3.77909555661 + 110.2063212194 * t);
-        X3 += 0.00000456158 * Math.cos(5.14235391148 + 853.196381752 * t);
-        X3 += 0.00000323749 * Math.cos(1.65135986090 + 234.6397364404 * t);
-        X3 += 0.00000279312 * Math.cos(2.09194739376 + 412.3710968744 * t);
-        X3 += 0.00000242325 * Math.cos(3.37263291828 + 103.0927742186 * t);
-        X3 += 0.00000194820 * Math.cos(0.79561075453 + 316.3918696566 * t);
-        X3 += 0.00000197473 * Math.cos(2.29502750567 + 632.7837393132 * t);
-        X3 += 0.00000153539 * Math.cos(2.32058023635 + 323.5054166574 * t);
-        X3 += 0.00000153890 * Math.cos(2.88170193491 + 21.3406410024 * t);
-        X3 += 0.00000125210 * Math.cos(1.45557479064 + 209.3669421749 * t);
-        X3 += 0.00000112760 * Math.cos(3.40679000015 + 217.2312487011 * t);
-        X3 += 0.00000111243 * Math.cos(5.41745722736 + 860.3099287528 * t);
-        X3 += 0.00000114540 * Math.cos(1.16490445103 + 223.5940361765 * t);
-        X3 += 0.00000085309 * Math.cos(1.89280411727 + 330.6189636582 * t);
-        X3 += 0.00000085135 * Math.cos(0.03375816593 + 654.1243803156 * t);
-        X3 += 0.00000077939 * Math.cos(1.56010598020 + 124.433415221 * t);
-        X3 += 0.00000078231 * Math.cos(3.42914597013 + 191.9584544356 * t);
-        X3 += 0.00000074130 * Math.cos(1.42392750477 + 95.9792272178 * t);
-        X3 += 0.00000068142 * Math.cos(0.98387434301 + 88.865680217 * t);
-        X3 += 0.00000087336 * Math.cos(0.36956268263 + 429.7795846137 * t);
-        X3 += 0.00000055815 * Math.cos(3.14406432672 + 202.2533951741 * t);
-        X3 += 0.00000052827 * Math.cos(1.73408996046 + 224.3447957019 * t);
-        X3 += 0.00000057443 * Math.cos(3.03043444004 + 309.2783226558 * t);
-        X3 += 0.00000057492 * Math.cos(3.84782364103 + 203.0041546995 * t);
-        X3 += 0.00000056662 * Math.cos(4.34229956199 + 1066.49547719 * t);
-        X3 += 0.00000046987 * Math.cos(5.44643763405 + 522.5774180938 * t);
-        X3 += 0.00000036710 * Math.cos(0.80403065388 + 447.9388318784 * t);
-        X3 += 0.00000043368 * Math.cos(0.21492345016 + 422.6660376129 * t);
-        X3 += 0.00000038392 * Math.cos(4.61793981610 + 302.164775655 * t);
-        X3 += 0.00000026301 * Math.cos(5.33628294545 + 3.9321532631 * t);
-        X3 += 0.00000033564 * Math.cos(5.14046011768 + 515.463871093 * t);
-        X3 += 0.00000034539 * Math.cos(4.06711162584 + 625.6701923124 * t);
-        X3 += 0.00000027097 * Math.cos(3.52898530668 + 423.4167971383 * t);
-        X3 += 0.00000018273 * Math.cos(5.52009626612 + 11.0457002639 * t);
-        X3 += 0.00000018598 * Math.cos(0.96593938431 + 536.8045120954 * t);
-        X3 += 0.00000017384 * Math.cos(2.60487389200 + 742.9900605326 * t);
-        X3 += 0.00000016214 * Math.cos(5.33895191945 + 195.1398481733 * t);
-        X3 += 0.00000012460 * Math.cos(1.13917234752 + 437.6438911399 * t);
-        X3 += 0.00000010400 * Math.cos(0.86968337094 + 337.732510659 * t);
-        X3 += 0.00000009842 * Math.cos(3.12525312100 + 529.6909650946 * t);
-        X3 += 0.00000009560 * Math.cos(3.90950620405 + 728.762966531 * t);
-        X3 += 0.00000010736 * Math.cos(0.95136288746 + 543.9180590962 * t);
-        X3 += 0.00000011351 * Math.cos(4.59214972522 + 1073.6090241908 * t);
-        X3 += 0.00000009345 * Math.cos(2.60381362406 + 846.0828347512 * t);
-        X3 += 0.00000009883 * Math.cos(0.96970461885 + 131.5469622218 * t);
-        X3 += 0.00000011913 * Math.cos(0.32742179509 + 436.8931316145 * t);
-        X3 += 0.00000008885 * Math.cos(1.24775346326 + 81.7521332162 * t);
-        X3 += 0.00000009563 * Math.cos(5.37444374475 + 618.5566453116 * t);
-        X3 += 0.00000008801 * Math.cos(4.62317354759 + 831.8557407496 * t);
-        X3 += 0.00000008329 * Math.cos(5.47343196835 + 867.4234757536 * t);
-        X3 += 0.00000007557 * Math.cos(0.67492634194 + 149.5631971346 * t);
-        X3 += 0.00000008632 * Math.cos(5.79859457484 + 643.0786800517 * t);
-        X3 += 0.00000007108 * Math.cos(5.64575177409 + 635.9651330509 * t);
-        X3 += 0.00000006933 * Math.cos(2.65057981825 + 231.4583427027 * t);
-        X3 += 0.00000006264 * Math.cos(4.41093547560 + 838.9692877504 * t);
-        X3 += 0.00000006025 * Math.cos(0.88008570151 + 269.9214467406 * t);
-        X3 += 0.00000006551 * Math.cos(2.06592655725 + 408.4389436113 * t);
-        X3 += 0.00000005426 * Math.cos(1.51764548237 + 241.7532834412 * t);
-        X3 += 0.00000006969 * Math.cos(2.96839894235 + 18.1592472647 * t);
-        X3 += 0.00000004980 * Math.cos(3.99676471147 + 277.0349937414 * t);
-        X3 += 0.00000006072 * Math.cos(4.85052454022 + 430.5303441391 * t);
-        X3 += 0.00000006351 * Math.cos(4.65670685339 + 735.8765135318 * t);
-        X3 += 0.00000005092 * Math.cos(5.42295850402 + 415.5524906121 * t);
-        X3 += 0.00000004853 * Math.cos(1.41484953432 + 56.6223513026 * t);
-        X3 += 0.00000004788 * Math.cos(5.23457916974 + 416.3032501375 * t);
-        X3 += 0.00000005822 * Math.cos(3.52591886185 + 1279.794572628 * t);
-        X3 += 0.00000004502 * Math.cos(5.18072695308 + 295.0512286542 * t);
-        X3 += 0.00000005711 * Math.cos(2.67282799280 + 1059.3819301892 * t);
-        X3 += 0.00000004162 * Math.cos(2.57897558009 + 405.2575498736 * t);
-        X3 += 0.00000004047 * Math.cos(0.05586072894 + 483.2205421786 * t);
-        X3 += 0.00000003761 * Math.cos(0.20298402131 + 184.8449074348 * t);
-        X3 += 0.00000004267 * Math.cos(0.15673436136 + 750.1036075334 * t);
-        X3 += 0.00000003758 * Math.cos(6.26818424862 + 661.2379273164 * t);
-        X3 += 0.00000003444 * Math.cos(0.42308482121 + 70.8494453042 * t);
-        X3 += 0.00000004356 * Math.cos(5.28542650706 + 508.3503240922 * t);
-        X3 += 0.00000003055 * Math.cos(3.54993071464 + 1045.1548361876 * t);
-        X3 += 0.00000004020 * Math.cos(5.39263507810 + 942.062061969 * t);
-        X3 += 0.00000003963 * Math.cos(4.65894685562 + 1148.2476104062 * t);
-        X3 += 0.00000002777 * Math.cos(5.36220250966 + 398.1440028728 * t);
-        X3 += 0.00000003496 * Math.cos(5.46796158814 + 934.9485149682 * t);
-        X3 += 0.00000002632 * Math.cos(5.25668667268 + 497.4476361802 * t);
-        X3 += 0.00000003141 * Math.cos(2.37254962656 + 113.3877149571 * t);
-        X3 += 0.00000002985 * Math.cos(4.24271370111 + 1464.6394800628 * t);
-        X3 += 0.00000002624 * Math.cos(5.92774700876 + 362.8622925726 * t);
-        X3 += 0.00000002819 * Math.cos(2.37526855634 + 106.2741679563 * t);
-        X3 += 0.00000002182 * Math.cos(0.02759628247 + 85.8272988312 * t);
-        X3 += 0.00000002279 * Math.cos(5.92066831454 + 611.4430983108 * t);
-        X3 += 0.00000001975 * Math.cos(2.38286785833 + 10.2949407385 * t);
-        X3 += 0.00000002390 * Math.cos(5.35249244244 + 2111.6503133776 * t);
-        X3 += 0.00000001947 * Math.cos(0.29299091741 + 650.9429865779 * t);
-        X3 += 0.00000002670 * Math.cos(0.63080955086 + 195.8906076987 * t);
-        X3 += 0.00000002670 * Math.cos(1.11722396214 + 230.7075831773 * t);
-        X3 += 0.00000002109 * Math.cos(2.18754318252 + 1375.7737998458 * t);
-        X3 += 0.00000002172 * Math.cos(4.72482235976 + 824.7421937488 * t);
-        X3 += 0.00000001881 * Math.cos(1.51688147809 + 344.7030453079 * t);
-        X3 += 0.00000001803 * Math.cos(1.85139236464 + 191.2076949102 * t);
-        X3 += 0.00000002064 * Math.cos(3.73413690570 + 636.7158925763 * t);
-        X3 += 0.00000001731 * Math.cos(4.25636556249 + 107.0249274817 * t);
-        X3 += 0.00000002012 * Math.cos(5.61258183662 + 927.8349679674 * t);
-        X3 += 0.00000002174 * Math.cos(3.60856902528 + 2001.4439921582 * t);
-        X3 += 0.00000001894 * Math.cos(3.17747534562 + 2634.2277314714 * t);
-        X3 += 0.00000001623 * Math.cos(5.85709468849 + 1596.1864422846 * t);
-        X3 += 0.00000001568 * Math.cos(3.03962450731 + 235.3904959658 * t);
-        X3 += 0.00000001620 * Math.cos(3.59260179724 + 1354.4331588434 * t);
-        X3 += 0.00000002086 * Math.cos(1.63830662169 + 444.7574381407 * t);
-        X3 += 0.00000001666 * Math.cos(1.70122243075 + 1877.0105769372 * t);
-        X3 += 0.00000001534 * Math.cos(2.96438152675 + 2531.1349572528 * t);
-        X3 += 0.00000001478 * Math.cos(2.77571041612 + 6290.1893969922 * t);
-        X3 += 0.00000001478 * Math.cos(5.26637302788 + 5849.3641121146 * t);
-        X3 += 0.00000001581 * Math.cos(3.33927122870 + 1670.82502850 * t);
-        X3 += 0.00000001463 * Math.cos(4.17961291276 + 5863.5912061162 * t);
-        X3 += 0.00000001463 * Math.cos(3.86247051274 + 6275.9623029906 * t);
-        X3 += 0.00000001458 * Math.cos(5.00557873280 + 1471.7530270636 * t);
-        X3 += 0.00000001800 * Math.cos(2.33402657895 + 1692.1656695024 * t);
-        X3 += 0.00000001703 * Math.cos(5.31204896749 + 1251.3403846248 * t);
-        X3 += 0.00000001486 * Math.cos(2.79422230211 + 956.2891559706 * t);
-        X3 += 0.00000001712 * Math.cos(3.37615479427 + 2317.8358618148 * t);
-        X3 += 0.00000001611 * Math.cos(4.98780035976 + 1155.361157407 * t);
-        X3 += 0.00000001461 * Math.cos(4.49945803797 + 284.1485407422 * t);
-        X3 += 0.00000001422 * Math.cos(1.45443687756 + 3156.8051495652 * t);
-        X3 += 0.00000001703 * Math.cos(4.03248419286 + 1781.0313497194 * t);
-        X3 += 0.00000001826 * Math.cos(5.18757361092 + 1258.4539316256 * t);
-        X3 += 0.00000001710 * Math.cos(0.91014674347 + 2118.7638603784 * t);
-        X3 += 0.00000001784 * Math.cos(4.50423670731 + 2641.3412784722 * t);
-        X3 += 0.00000001464 * Math.cos(5.14309710649 + 1567.7322542814 * t);
-        X3 += 0.00000001401 * Math.cos(1.88642781204 + 142.4496501338 * t);
-        X3 += 0.00000001343 * Math.cos(0.92628967169 + 721.6494195302 * t);
-        X3 += 0.00000001291 * Math.cos(3.37888350174 + 2214.7430875962 * t);
-        X3 += 0.00000001350 * Math.cos(4.32908573183 + 2104.5367663768 * t);
-        X3 += 0.00000001418 * Math.cos(4.89635131851 + 1891.2376709388 * t);
-        X3 += 0.00000001378 * Math.cos(5.33317515837 + 1244.226837624 * t);
-        X3 += 0.00000001169 * Math.cos(3.51844208566 + 1038.0412891868 * t);
-        X3 += 0.00000001193 * Math.cos(2.35328043754 + 208.633228992 * t);
-        X3 += 0.00000001193 * Math.cos(5.67793838264 + 217.964961884 * t);
-        X3 += 0.00000001171 * Math.cos(1.32912096461 + 67.6680515665 * t);
-        X3 += 0.00000001149 * Math.cos(5.21665646897 + 1052.2683831884 * t);
-        X3 += 0.00000001448 * Math.cos(4.76381158065 + 1574.8458012822 * t);
-        X3 += 0.00000001479 * Math.cos(2.71782422593 + 2943.5060541272 * t);
-        X3 += 0.00000001218 * Math.cos(4.64137100804 + 1802.3719907218 * t);
-        X3 += 0.00000001258 * Math.cos(3.13376191836 + 1987.2168981566 * t);
-        X3 += 0.00000001120 * Math.cos(2.20237394974 + 2221.856634597 * t);
-        X3 += 0.00000001489 * Math.cos(4.90352954971 + 99.9113804809 * t);
-        X3 += 0.00000001423 * Math.cos(0.20348614524 + 2751.5475996916 * t);
-        X3 += 0.00000001287 * Math.cos(2.87033036762 + 2950.619601128 * t);
-        X3 += 0.00000001366 * Math.cos(1.50720012516 + 160.6088973985 * t);
-        X3 += 0.00000001404 * Math.cos(4.60280002051 + 1141.1340634054 * t);
-        X3 += 0.00000001271 * Math.cos(3.84978015419 + 2516.9078632512 * t);
-        X3 += 0.00000001043 * Math.cos(3.94888443244 + 156.6767441354 * t);
-        X3 += 0.00000001353 * Math.cos(1.63971328596 + 2332.0629558164 * t);
-        X3 += 0.00000001008 * Math.cos(4.25596393022 + 1589.0728952838 * t);
-        X3 += 0.00000001107 * Math.cos(4.52250002071 + 1788.1448967202 * t);
-        X3 += 0.00000001030 * Math.cos(3.14179566095 + 1272.6810256272 * t);
-        X3 += 0.00000001267 * Math.cos(3.23903356397 + 2730.2069586892 * t);
-        X3 += 0.00000000983 * Math.cos(3.57873923658 + 2538.2485042536 * t);
-        X3 += 0.00000000947 * Math.cos(1.10602398935 + 2737.32050569 * t);
-        X3 += 0.00000000943 * Math.cos(1.43059281636 + 1265.5674786264 * t);
-        X3 += 0.00000000959 * Math.cos(2.81080821378 + 3.1813937377 * t);
-        X3 += 0.00000000934 * Math.cos(2.85061816635 + 2847.5268269094 * t);
-        X3 += 0.00000001217 * Math.cos(0.61048663699 + 2435.155730035 * t);
-        X3 += 0.00000001065 * Math.cos(3.11668462648 + 2627.1141844706 * t);
-        X3 += 0.00000001037 * Math.cos(5.05773255871 + 1560.6187072806 * t);
-        X3 += 0.00000000892 * Math.cos(4.87072941550 + 340.7708920448 * t);
-        X3 += 0.00000001159 * Math.cos(4.05810519039 + 1773.9178027186 * t);
-        X3 += 0.00000000890 * Math.cos(0.42201287054 + 358.9301393095 * t);
-        X3 += 0.00000000911 * Math.cos(4.63172396818 + 52.6901980395 * t);
-        X3 += 0.00000001141 * Math.cos(4.36531176294 + 2200.5159935946 * t);
-        X3 += 0.00000000869 * Math.cos(1.74356858320 + 621.7380390493 * t);
-        X3 += 0.00000000874 * Math.cos(3.20030615211 + 313.2104759189 * t);
-        X3 += 0.00000001076 * Math.cos(4.65549790926 + 2310.722314814 * t);
-        X3 += 0.00000000915 * Math.cos(3.95150791665 + 2413.8150890326 * t);
-        X3 += 0.00000000886 * Math.cos(4.98162541052 + 1884.124123938 * t);
-        X3 += 0.00000000826 * Math.cos(0.12226241024 + 2854.6403739102 * t);
-        X3 += 0.00000000931 * Math.cos(4.58138300754 + 2207.6295405954 * t);
-        X3 += 0.00000001022 * Math.cos(2.73879142256 + 1795.258443721 * t);
-        X3 += 0.00000000829 * Math.cos(1.23001925045 + 3473.1970192218 * t);
-        X3 += 0.00000000780 * Math.cos(5.40530203824 + 288.0806940053 * t);
-        X3 += 0.00000000780 * Math.cos(5.76750943553 + 138.5174968707 * t);
-        X3 += 0.00000000801 * Math.cos(4.12442591018 + 2420.9286360334 * t);
-        X3 += 0.00000001048 * Math.cos(5.42341780494 + 1699.2792165032 * t);
-        X3 += 0.00000000980 * Math.cos(3.38242345124 + 265.9892934775 * t);
-        X3 += 0.00000000761 * Math.cos(5.11274182251 + 628.8515860501 * t);
-        X3 += 0.00000000829 * Math.cos(4.46319631894 + 1382.8873468466 * t);
-        X3 += 0.00000001036 * Math.cos(1.92150632612 + 2008.557539159 * t);
-        X3 += 0.00000001004 * Math.cos(3.82519737724 + 2097.423219376 * t);
-        X3 += 0.00000000859 * Math.cos(6.09743195511 + 1169.5882514086 * t);
-        X3 += 0.00000001023 * Math.cos(3.16354165750 + 1162.4747044078 * t);
-        X3 += 0.00000000749 * Math.cos(3.65032166516 + 1809.4855377226 * t);
-        X3 += 0.00000001025 * Math.cos(1.41031425038 + 2648.454825473 * t);
-        X3 += 0.00000000970 * Math.cos(2.42137255057 + 3259.8979237838 * t);
-        X3 += 0.00000000969 * Math.cos(4.11891057273 + 2524.021410252 * t);
-        X3 += 0.00000000760 * Math.cos(3.53245128537 + 1361.5467058442 * t);
-        X3 += 0.00000000727 * Math.cos(2.50277330889 + 245.5424243524 * t);
-        X3 += 0.00000000727 * Math.cos(2.38685285770 + 181.0557665236 * t);
-        X3 += 0.00000000806 * Math.cos(4.44964273062 + 1912.5783119412 * t);
-        X3 += 0.00000000699 * Math.cos(0.41079818318 + 9779.5738083342 * t);
-        X3 += 0.00000000699 * Math.cos(4.19500442256 + 10220.3990932118 * t);
-        X3 += 0.00000000712 * Math.cos(0.83128225610 + 3149.6916025644 * t);
-        X3 += 0.00000000943 * Math.cos(4.37865824380 + 1457.525933062 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 87 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00007959921 * Math.cos(4.70523623364 + 206.1855484372 * t);
-        X4 += 0.00007836652 * Math.cos(0.13981693631 + 220.4126424388 * t);
-        X4 += 0.00001511196 * Math.cos(0.06561560462 + 227.5261894396 * t);
-        X4 += 0.00001223066 * Math.cos(5.41618485361 + 433.7117378768 * t);
-        X4 += 0.00000702780 * Math.cos(4.84941923986 + 199.0720014364 * t);
-        X4 += 0.00000861569;
-        X4 += 0.00000550606 * Math.cos(1.37376296077 + 7.1135470008 * t);
-        X4 += 0.00000353954 * Math.cos(4.14510701125 + 419.4846438752 * t);
-        X4 += 0.00000386476 * Math.cos(1.33814676867 + 14.2270940016 * t);
-        X4 += 0.00000386632 * Math.cos(5.00698289959 + 426.598190876 * t);
-        X4 += 0.00000185617 * Math.cos(5.43394463245 + 440.8252848776 * t);
-        X4 += 0.00000208917 * Math.cos(4.14160968677 + 639.897286314 * t);
-        X4 += 0.00000171842 * Math.cos(4.47453630580 + 647.0108333148 * t);
-        X4 += 0.00000107628 * Math.cos(3.12066785242 + 213.299095438 * t);
-        X4 += 0.00000085501 * Math.cos(6.19913432948 + 234.6397364404 * t);
-        X4 += 0.00000044565 * Math.cos(1.37919223618 + 117.3198682202 * t);
-        X4 += 0.00000046688 * Math.cos(3.24488292928 + 853.196381752 * t);
-        X4 += 0.00000040674 * Math.cos(3.84264604432 + 412.3710968744 * t);
-        X4 += 0.00000031426 * Math.cos(1.10512966038 + 21.3406410024 * t);
-        X4 += 0.00000022585 * Math.cos(4.54572472226 + 654.1243803156 * t);
-        X4 += 0.00000023455 * Math.cos(1.82221057710 + 110.2063212194 * t);
-        X4 += 0.00000022100 * Math.cos(4.99442974326 + 103.0927742186 * t);
-        X4 += 0.00000016781 * Math.cos(5.95845772756 + 124.433415221 * t);
-        X4 += 0.00000021614 * Math.cos(3.57669133452 + 860.3099287528 * t);
-        X4 += 0.00000013266 * Math.cos(2.62546406286 + 88.865680217 * t);
-        X4 += 0.00000011159 * Math.cos(0.51449343376 + 323.5054166574 * t);
-        X4 += 0.00000012055 * Math.cos(5.31554479919 + 447.9388318784 * t);
-        X4 += 0.00000011680 * Math.cos(0.07071555888 + 330.6189636582 * t);
-        X4 += 0.00000012768 * Math.cos(4.29259283212 + 632.7837393132 * t);
-        X4 += 0.00000009454 * Math.cos(4.97949666878 + 309.2783226558 * t);
-        X4 += 0.00000011615 * Math.cos(5.48666645223 + 191.9584544356 * t);
-        X4 += 0.00000008176 * Math.cos(4.69579306758 + 429.7795846137 * t);
-        X4 += 0.00000008183 * Math.cos(6.25637069378 + 302.164775655 * t);
-        X4 += 0.00000007648 * Math.cos(2.49809540273 + 1066.49547719 * t);
-        X4 += 0.00000007244 * Math.cos(2.45154966599 + 316.3918696566 * t);
-        X4 += 0.00000007122 * Math.cos(3.48320485477 + 95.9792272178 * t);
-        X4 += 0.00000005795 * Math.cos(0.77328842873 + 515.463871093 * t);
-        X4 += 0.00000006842 * Math.cos(2.21058521494 + 203.0041546995 * t);
-        X4 += 0.00000005116 * Math.cos(1.02487071187 + 522.5774180938 * t);
-        X4 += 0.00000006721 * Math.cos(5.82034927641 + 223.5940361765 * t);
-        X4 += 0.00000006054 * Math.cos(5.76677297417 + 625.6701923124 * t);
-        X4 += 0.00000003706 * Math.cos(0.91070583014 + 423.4167971383 * t);
-        X4 += 0.00000004566 * Math.cos(2.33336636359 + 210.1177017003 * t);
-        X4 += 0.00000003481 * Math.cos(0.40766895755 + 405.2575498736 * t);
-        X4 += 0.00000004122 * Math.cos(5.75056217441 + 216.4804891757 * t);
-        X4 += 0.00000002914 * Math.cos(4.78578940892 + 422.6660376129 * t);
-        X4 += 0.00000002709 * Math.cos(0.47869910745 + 831.8557407496 * t);
-        X4 += 0.00000002717 * Math.cos(5.35928319999 + 131.5469622218 * t);
-        X4 += 0.00000002555 * Math.cos(4.65503946246 + 337.732510659 * t);
-        X4 += 0.00000001782 * Math.cos(1.94963952968 + 184.8449074348 * t);
-        X4 += 0.00000001782 * Math.cos(6.08157929050 + 241.7532834412 * t);
-        X4 += 0.00000001647 * Math.cos(4.69494400206 + 529.6909650946 * t);
-        X4 += 0.00000001607 * Math.cos(4.53781851011 + 611.4430983108 * t);
-        X4 += 0.00000001671 * Math.cos(5.82347399210 + 728.762966531 * t);
-        X4 += 0.00000001832 * Math.cos(1.05748320810 + 618.5566453116 * t);
-        X4 += 0.00000001378 * Math.cos(4.60357847531 + 1258.4539316256 * t);
-        X4 += 0.00000001362 * Math.cos(0.24349155164 + 295.0512286542 * t);
-        X4 += 0.00000001424 * Math.cos(1.29921978517 + 1361.5467058442 * t);
-        X4 += 0.00000001354 * Math.cos(0.56585154017 + 1052.2683831884 * t);
-        X4 += 0.00000001527 * Math.cos(0.16925157947 + 742.9900605326 * t);
-        X4 += 0.00000001660 * Math.cos(5.25065426762 + 536.8045120954 * t);
-        X4 += 0.00000001385 * Math.cos(1.03348225034 + 934.9485149682 * t);
-        X4 += 0.00000001276 * Math.cos(5.27451478451 + 209.3669421749 * t);
-        X4 += 0.00000001310 * Math.cos(2.66710126916 + 217.2312487011 * t);
-        X4 += 0.00000001646 * Math.cos(0.97572157001 + 195.1398481733 * t);
-        X4 += 0.00000001646 * Math.cos(0.77231194299 + 231.4583427027 * t);
-        X4 += 0.00000001321 * Math.cos(4.31463392663 + 1891.2376709388 * t);
-        X4 += 0.00000001220 * Math.cos(5.77693859261 + 1677.9385755008 * t);
-        X4 += 0.00000001161 * Math.cos(6.07080345095 + 81.7521332162 * t);
-        X4 += 0.00000001326 * Math.cos(0.08306524701 + 735.8765135318 * t);
-        X4 += 0.00000001356 * Math.cos(5.89043928703 + 1464.6394800628 * t);
-        X4 += 0.00000001109 * Math.cos(1.13447786805 + 942.062061969 * t);
-        X4 += 0.00000001079 * Math.cos(6.04021301968 + 1368.660252845 * t);
-        X4 += 0.00000001360 * Math.cos(0.43595823048 + 1251.3403846248 * t);
-        X4 += 0.00000000970 * Math.cos(4.35782627482 + 1574.8458012822 * t);
-        X4 += 0.00000001040 * Math.cos(6.10739546703 + 1148.2476104062 * t);
-        X4 += 0.00000001058 * Math.cos(1.60073627875 + 750.1036075334 * t);
-        X4 += 0.00000000815 * Math.cos(3.68677231115 + 1884.124123938 * t);
-        X4 += 0.00000000963 * Math.cos(0.31543671592 + 508.3503240922 * t);
-        X4 += 0.00000000872 * Math.cos(5.40584490574 + 1994.3304451574 * t);
-        X4 += 0.00000000859 * Math.cos(1.14491409094 + 416.3032501375 * t);
-        X4 += 0.00000000862 * Math.cos(4.75102573016 + 436.8931316145 * t);
-        X4 += 0.00000000869 * Math.cos(4.08394538076 + 2207.6295405954 * t);
-        X4 += 0.00000000791 * Math.cos(0.48772914294 + 1375.7737998458 * t);
-        X4 += 0.00000000699 * Math.cos(6.11938930504 + 1272.6810256272 * t);
-        X4 += 0.00000000711 * Math.cos(3.95347589074 + 838.9692877504 * t);
-        X4 += 0.00000000684 * Math.cos(5.09702256485 + 661.2379273164 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 31 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000589250 * Math.cos(0.13910544483 + 206.1855484372 * t);
-        X5 += 0.00000585873 * Math.cos(4.66559223624 + 220.4126424388 * t);
-        X5 += 0.00000225585 * Math.cos(4.60652710308 + 227.5261894396 * t);
-        X5 += 0.00000130928 * Math.cos(3.62464025902 + 433.7117378768 * t);
-        X5 += 0.00000096655 * Math.cos(0.27211008150 + 199.0720014364 * t);
-        X5 += 0.00000039234 * Math.cos(5.89958047262 + 14.2270940016 * t);
-        X5 += 0.00000034028 * Math.cos(3.65602602826 + 440.8252848776 * t);
-        X5 += 0.00000022888 * Math.cos(2.66308397652 + 647.0108333148 * t);
-        X5 += 0.00000013217 * Math.cos(0.45062200345 + 419.4846438752 * t);
-        X5 += 0.00000011098 * Math.cos(2.29053445238 + 639.897286314 * t);
-        X5 += 0.00000010309 * Math.cos(4.51687321997 + 234.6397364404 * t);
-        X5 += 0.00000008618 * Math.cos(3.52496812983 + 191.9584544356 * t);
-        X5 += 0.00000007232 * Math.cos(2.35670723669 + 426.598190876 * t);
-        X5 += 0.00000004570 * Math.cos(4.45812627425 + 88.865680217 * t);
-        X5 += 0.00000003952 * Math.cos(2.26696519317 + 405.2575498736 * t);
-        X5 += 0.00000004374 * Math.cos(2.76511551481 + 654.1243803156 * t);
-        X5 += 0.00000003345 * Math.cos(0.57732318208 + 302.164775655 * t);
-        X5 += 0.00000003330 * Math.cos(1.41526603487 + 853.196381752 * t);
-        X5 += 0.00000003423 * Math.cos(0.55242036551 + 213.299095438 * t);
-        X5 += 0.00000003257 * Math.cos(2.01504712067 + 7.1135470008 * t);
-        X5 += 0.00000003259 * Math.cos(3.89966347218 + 124.433415221 * t);
-        X5 += 0.00000002600 * Math.cos(5.88861526835 + 110.2063212194 * t);
-        X5 += 0.00000002678 * Math.cos(1.74968775976 + 860.3099287528 * t);
-        X5 += 0.00000002293 * Math.cos(3.33163799546 + 515.463871093 * t);
-        X5 += 0.00000002138 * Math.cos(3.58678888073 + 447.9388318784 * t);
-        X5 += 0.00000001434 * Math.cos(1.52962464590 + 309.2783226558 * t);
-        X5 += 0.00000001179 * Math.cos(5.61835587452 + 117.3198682202 * t);
-        X5 += 0.00000000984 * Math.cos(3.95579224093 + 203.0041546995 * t);
-        X5 += 0.00000000984 * Math.cos(4.07542657925 + 223.5940361765 * t);
-        X5 += 0.00000000779 * Math.cos(2.12929707069 + 330.6189636582 * t);
-        X5 += 0.00000000783 * Math.cos(3.19520562324 + 522.5774180938 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1658 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 9.52986882699 * Math.cos(5.58600556665 + 213.299095438 * t);
-        Y0 -= 0.79387988806;
-        Y0 += 0.26441781302 * Math.cos(4.83528061849 + 426.598190876 * t);
-        Y0 += 0.06916653915 * Math.cos(2.55279408706 + 206.1855484372 * t);
-        Y0 += 0.06633570703 * Math.cos(5.46258848288 + 220.4126424388 * t);
-        Y0 += 0.02345609742 * Math.cos(0.44652132519 + 7.1135470008 * t);
-        Y0 += 0.01183874652 * Math.cos(1.34638298371 + 419.4846438752 * t);
-        Y0 += 0.01245790434 * Math.cos(0.60367177975 + 110.2063212194 * t);
-        Y0 += 0.01098751131 * Math.cos(4.08608782813 + 639.897286314 * t);
-        Y0 += 0.00700849336 * Math.cos(1.13611298025 + 316.3918696566 * t);
-        Y0 += 0.00434466176 * Math.cos(5.42474696262 + 529.6909650946 * t);
-        Y0 += 0.00373327342 * Math.cos(4.71308726958 + 433.7117378768 * t);
-        Y0 += 0.00335162363 * Math.cos(0.66422253983 + 103.0927742186 * t);
-        Y0 += 0.00097837745 * Math.cos(5.72844290173 + 323.5054166574 * t);
-        Y0 += 0.00080571808 * Math.cos(4.05295449910 + 11.0457002639 * t);
-        Y0 += 0.00083899691 * Math.cos(5.33204070267 + 227.5261894396 * t);
-        Y0 += 0.00070158491 * Math.cos(5.59777963629 + 209.3669421749 * t);
-        Y0 += 0.00065937657 * Math.cos(1.25969608208 + 202.2533951741 * t);
-        Y0 += 0.00070957225 * Math.cos(0.88888207567 + 632.7837393132 * t);
-        Y0 += 0.00068985859 * Math.cos(2.44460312617 + 217.2312487011 * t);
-        Y0 += 0.00058382264 * Math.cos(0.58978766922 + 224.3447957019 * t);
-        Y0 += 0.00054049836 * Math.cos(3.33757904879 + 853.196381752 * t);
-        Y0 += 0.00045790930 * Math.cos(0.30331527632 + 14.2270940016 * t);
-        Y0 += 0.00041976402 * Math.cos(2.62591355948 + 199.0720014364 * t);
-        Y0 += 0.00044697175 * Math.cos(0.90661238256 + 63.7358983034 * t);
-        Y0 += 0.00025199575 * Math.cos(5.08963506006 + 216.4804891757 * t);
-        Y0 += 0.00024640836 * Math.cos(2.95445247282 + 210.1177017003 * t);
-        Y0 += 0.00024835151 * Math.cos(4.02630190571 + 415.5524906121 * t);
-        Y0 += 0.00025545907 * Math.cos(0.06626229252 + 117.3198682202 * t);
-        Y0 += 0.00029666833 * Math.cos(6.09910638345 + 735.8765135318 * t);
-        Y0 += 0.00023396742 * Math.cos(3.96337393635 + 647.0108333148 * t);
-        Y0 += 0.00023380691 * Math.cos(4.90051072276 + 149.5631971346 * t);
-        Y0 += 0.00020272215 * Math.cos(2.34319548198 + 309.2783226558 * t);
-        Y0 += 0.00020099552 * Math.cos(0.98365186365 + 522.5774180938 * t);
-        Y0 += 0.00024827950 * Math.cos(3.92681428900 + 74.7815985673 * t);
-        Y0 += 0.00015383927 * Math.cos(3.10227822627 + 277.0349937414 * t);
-        Y0 += 0.00011629210 * Math.cos(5.74108283772 + 1059.3819301892 * t);
-        Y0 += 0.00012422966 * Math.cos(2.62557865743 + 490.3340891794 * t);
-        Y0 += 0.00012048048 * Math.cos(4.09265980116 + 351.8165923087 * t);
-        Y0 += 0.00009551796 * Math.cos(3.48788042094 + 95.9792272178 * t);
-        Y0 += 0.00007670379 * Math.cos(1.16594276164 + 742.9900605326 * t);
-        Y0 += 0.00006919946 * Math.cos(1.17090063883 + 412.3710968744 * t);
-        Y0 += 0.00009034877 * Math.cos(5.86816144198 + 1052.2683831884 * t);
-        Y0 += 0.00006536751 * Math.cos(0.84246459392 + 838.9692877504 * t);
-        Y0 += 0.00006082097 * Math.cos(4.58758280729 + 440.8252848776 * t);
-        Y0 += 0.00005027211 * Math.cos(0.93213690546 + 846.0828347512 * t);
-        Y0 += 0.00004838146 * Math.cos(4.98563812475 + 536.8045120954 * t);
-        Y0 += 0.00005768897 * Math.cos(3.73776690402 + 38.1330356378 * t);
-        Y0 += 0.00005201849 * Math.cos(2.97482802430 + 210.8514148832 * t);
-        Y0 += 0.00005156578 * Math.cos(5.05796998564 + 215.7467759928 * t);
-        Y0 += 0.00003792348 * Math.cos(4.41806046981 + 422.6660376129 * t);
-        Y0 += 0.00003881104 * Math.cos(3.38026646963 + 3.9321532631 * t);
-        Y0 += 0.00003768751 * Math.cos(2.14954247360 + 212.3358875915 * t);
-        Y0 += 0.00003752010 * Math.cos(5.88125434018 + 214.2623032845 * t);
-        Y0 += 0.00003118938 * Math.cos(5.55799397159 + 213.2509113282 * t);
-        Y0 += 0.00003118056 * Math.cos(2.47259780102 + 213.3472795478 * t);
-        Y0 += 0.00003815691 * Math.cos(2.44166851155 + 625.6701923124 * t);
-        Y0 += 0.00004042463 * Math.cos(1.24471211016 + 137.0330241624 * t);
-        Y0 += 0.00002829944 * Math.cos(5.44434225998 + 330.6189636582 * t);
-        Y0 += 0.00003367270 * Math.cos(6.13298847057 + 437.6438911399 * t);
-        Y0 += 0.00002891352 * Math.cos(5.85313497106 + 85.8272988312 * t);
-        Y0 += 0.00002774595 * Math.cos(5.61594351302 + 203.7378678824 * t);
-        Y0 += 0.00002638715 * Math.cos(3.83678156812 + 288.0806940053 * t);
-        Y0 += 0.00003171680 * Math.cos(4.19553075395 + 76.2660712756 * t);
-        Y0 += 0.00002532374 * Math.cos(3.52629372341 + 628.8515860501 * t);
-        Y0 += 0.00002533632 * Math.cos(3.89788590926 + 138.5174968707 * t);
-        Y0 += 0.00002982174 * Math.cos(2.58535107213 + 1066.49547719 * t);
-        Y0 += 0.00002620642 * Math.cos(0.69751279148 + 127.4717966068 * t);
-        Y0 += 0.00002501775 * Math.cos(6.19929274396 + 9.5612275556 * t);
-        Y0 += 0.00002448467 * Math.cos(0.54179432209 + 1155.361157407 * t);
-        Y0 += 0.00002431496 * Math.cos(2.40122451395 + 222.8603229936 * t);
-        Y0 += 0.00003138628 * Math.cos(5.63058455924 + 1368.660252845 * t);
-        Y0 += 0.00002269226 * Math.cos(2.12401905105 + 430.5303441391 * t);
-        Y0 += 0.00002078049 * Math.cos(1.95682348964 + 423.4167971383 * t);
-        Y0 += 0.00002670750 * Math.cos(0.18165311734 + 3.1813937377 * t);
-        Y0 += 0.00002339764 * Math.cos(4.29619053852 + 388.4651552382 * t);
-        Y0 += 0.00001636580 * Math.cos(2.97440139727 + 12.5301729722 * t);
-        Y0 += 0.00001639181 * Math.cos(0.62823227849 + 212.7778305762 * t);
-        Y0 += 0.00001634235 * Math.cos(1.12043073218 + 213.8203602998 * t);
-        Y0 += 0.00001499665 * Math.cos(5.16865990579 + 52.6901980395 * t);
-        Y0 += 0.00001462908 * Math.cos(4.35285690993 + 429.7795846137 * t);
-        Y0 += 0.00001678952 * Math.cos(2.07211719214 + 949.1756089698 * t);
-        Y0 += 0.00001989253 * Math.cos(0.42496478369 + 1.4844727083 * t);
-        Y0 += 0.00001540242 * Math.cos(3.21449770483 + 860.3099287528 * t);
-        Y0 += 0.00001437063 * Math.cos(3.84293543293 + 350.3321196004 * t);
-        Y0 += 0.00001276377 * Math.cos(2.98728987770 + 340.7708920448 * t);
-        Y0 += 0.00001152164 * Math.cos(1.78736848302 + 942.062061969 * t);
-        Y0 += 0.00001112617 * Math.cos(5.19114183145 + 234.6397364404 * t);
-        Y0 += 0.00001011023 * Math.cos(0.27242160432 + 1471.7530270636 * t);
-        Y0 += 0.00001162807 * Math.cos(2.35040840317 + 200.7689224658 * t);
-        Y0 += 0.00001091025 * Math.cos(4.25638370205 + 362.8622925726 * t);
-        Y0 += 0.00001090678 * Math.cos(5.85086226218 + 173.9422195228 * t);
-        Y0 += 0.00000979441 * Math.cos(4.38030362500 + 1162.4747044078 * t);
-        Y0 += 0.00001186647 * Math.cos(5.38323620554 + 1685.0521225016 * t);
-        Y0 += 0.00000870366 * Math.cos(1.66373573347 + 210.3783341312 * t);
-        Y0 += 0.00001120819 * Math.cos(1.89478696683 + 703.6331846174 * t);
-        Y0 += 0.00000868815 * Math.cos(0.08028652697 + 216.2198567448 * t);
-        Y0 += 0.00000831989 * Math.cos(5.29292222262 + 212.5483359126 * t);
-        Y0 += 0.00000825849 * Math.cos(2.73629728926 + 214.0498549634 * t);
-        Y0 += 0.00000880943 * Math.cos(6.17830049665 + 209.106309744 * t);
-        Y0 += 0.00000867622 * Math.cos(1.84353750811 + 217.491881132 * t);
-        Y0 += 0.00000789747 * Math.cos(4.95200793900 + 223.5940361765 * t);
-        Y0 += 0.00000787760 * Math.cos(1.09636920769 + 515.463871093 * t);
-        Y0 += 0.00001008898 * Math.cos(5.80110302450 + 225.8292684102 * t);
-        Y0 += 0.00000852348 * Math.cos(3.77492026990 + 88.865680217 * t);
-        Y0 += 0.00000919742 * Math.cos(3.29098397009 + 565.1156877467 * t);
-        Y0 += 0.00000861896 * Math.cos(2.13214810643 + 252.6559713532 * t);
-        Y0 += 0.00000707797 * Math.cos(1.00092256988 + 1265.5674786264 * t);
-        Y0 += 0.00000935830 * Math.cos(2.78325753863 + 302.164775655 * t);
-        Y0 += 0.00000711560 * Math.cos(1.83909913013 + 417.0369633204 * t);
-        Y0 += 0.00000918735 * Math.cos(3.00604517701 + 563.6312150384 * t);
-        Y0 += 0.00000714428 * Math.cos(5.61336775536 + 207.6700211455 * t);
-        Y0 += 0.00000686040 * Math.cos(0.30753112959 + 956.2891559706 * t);
-        Y0 += 0.00000795907 * Math.cos(0.44249466780 + 207.8824694666 * t);
-        Y0 += 0.00000664618 * Math.cos(0.18239901113 + 479.2883889155 * t);
-        Y0 += 0.00000770829 * Math.cos(1.32128949558 + 218.7157214094 * t);
-        Y0 += 0.00000693714 * Math.cos(2.40549437556 + 218.9281697305 * t);
-        Y0 += 0.00000798909 * Math.cos(6.06695893725 + 22.0914005278 * t);
-        Y0 += 0.00000835476 * Math.cos(1.39152622883 + 160.6088973985 * t);
-        Y0 += 0.00000739834 * Math.cos(6.27747531964 + 728.762966531 * t);
-        Y0 += 0.00000594013 * Math.cos(1.31598713165 + 265.9892934775 * t);
-        Y0 += 0.00000764611 * Math.cos(0.14564177629 + 21.3406410024 * t);
-        Y0 += 0.00000581261 * Math.cos(2.38872797383 + 554.0699874828 * t);
-        Y0 += 0.00000629049 * Math.cos(1.22858809314 + 18.1592472647 * t);
-        Y0 += 0.00000702089 * Math.cos(1.97508934614 + 62.2514255951 * t);
-        Y0 += 0.00000698631 * Math.cos(5.28259133162 + 124.433415221 * t);
-        Y0 += 0.00000614460 * Math.cos(2.85212173127 + 217.964961884 * t);
-        Y0 += 0.00000667918 * Math.cos(1.25225067905 + 425.1137181677 * t);
-        Y0 += 0.00000581376 * Math.cos(0.50782281722 + 231.4583427027 * t);
-        Y0 += 0.00000520344 * Math.cos(5.09622518839 + 414.0680179038 * t);
-        Y0 += 0.00000519835 * Math.cos(1.70911972460 + 99.1606209555 * t);
-        Y0 += 0.00000500788 * Math.cos(1.47836685639 + 1258.4539316256 * t);
-        Y0 += 0.00000533532 * Math.cos(0.96174816662 + 214.7835681463 * t);
-        Y0 += 0.00000483256 * Math.cos(0.91737302115 + 408.4389436113 * t);
-        Y0 += 0.00000553256 * Math.cos(5.17631306517 + 208.633228992 * t);
-        Y0 += 0.00000629756 * Math.cos(2.95386700663 + 65.2203710117 * t);
-        Y0 += 0.00000465386 * Math.cos(3.05786362626 + 203.0041546995 * t);
-        Y0 += 0.00000528826 * Math.cos(0.65918491217 + 211.8146227297 * t);
-        Y0 += 0.00000465526 * Math.cos(3.83793669928 + 654.1243803156 * t);
-        Y0 += 0.00000503180 * Math.cos(2.80008494039 + 251.4321310758 * t);
-        Y0 += 0.00000443674 * Math.cos(0.00736496644 + 1788.1448967202 * t);
-        Y0 += 0.00000426214 * Math.cos(6.01089625149 + 1589.0728952838 * t);
-        Y0 += 0.00000414514 * Math.cos(2.06430786088 + 148.0787244263 * t);
-        Y0 += 0.00000454911 * Math.cos(4.17704716573 + 1478.8665740644 * t);
-        Y0 += 0.00000398382 * Math.cos(0.07909774752 + 213.4109700226 * t);
-        Y0 += 0.00000398382 * Math.cos(1.66925524906 + 213.1872208534 * t);
-        Y0 += 0.00000473403 * Math.cos(5.14050822265 + 2001.4439921582 * t);
-        Y0 += 0.00000358919 * Math.cos(4.93878023673 + 2.4476805548 * t);
-        Y0 += 0.00000465061 * Math.cos(1.45302862836 + 142.4496501338 * t);
-        Y0 += 0.00000376562 * Math.cos(0.54829635117 + 1581.959348283 * t);
-        Y0 += 0.00000341585 * Math.cos(3.45264409045 + 198.321241911 * t);
-        Y0 += 0.00000433316 * Math.cos(3.20558404998 + 312.1990839626 * t);
-        Y0 += 0.00000350436 * Math.cos(1.14513501672 + 98.8999885246 * t);
-        Y0 += 0.00000334759 * Math.cos(2.28889729136 + 213.0866471169 * t);
-        Y0 += 0.00000334759 * Math.cos(5.74264101239 + 213.5115437591 * t);
-        Y0 += 0.00000370173 * Math.cos(3.82861856132 + 151.0476698429 * t);
-        Y0 += 0.00000357143 * Math.cos(5.33211408348 + 175.1660598002 * t);
-        Y0 += 0.00000367605 * Math.cos(4.36445046507 + 750.1036075334 * t);
-        Y0 += 0.00000319024 * Math.cos(4.57593199965 + 228.276948965 * t);
-        Y0 += 0.00000312590 * Math.cos(0.96110658139 + 831.8557407496 * t);
-        Y0 += 0.00000306586 * Math.cos(4.93996479979 + 195.1398481733 * t);
-        Y0 += 0.00000384780 * Math.cos(4.14880260454 + 56.6223513026 * t);
-        Y0 += 0.00000421807 * Math.cos(5.63268242725 + 70.8494453042 * t);
-        Y0 += 0.00000400030 * Math.cos(2.71207125945 + 177.8743727859 * t);
-        Y0 += 0.00000327733 * Math.cos(2.69309432564 + 191.9584544356 * t);
-        Y0 += 0.00000273993 * Math.cos(5.98830026684 + 278.5194664497 * t);
-        Y0 += 0.00000270202 * Math.cos(3.57098211820 + 635.9651330509 * t);
-        Y0 += 0.00000336412 * Math.cos(3.29741235332 + 114.1384744825 * t);
-        Y0 += 0.00000269943 * Math.cos(0.56914501964 + 327.4375699205 * t);
-        Y0 += 0.00000265070 * Math.cos(4.06900450863 + 205.2223405907 * t);
-        Y0 += 0.00000348765 * Math.cos(5.33112172130 + 248.7238180901 * t);
-        Y0 += 0.00000296845 * Math.cos(6.22357485953 + 10.2949407385 * t);
-        Y0 += 0.00000251697 * Math.cos(1.64343434992 + 213.0384630071 * t);
-        Y0 += 0.00000251697 * Math.cos(0.10491824010 + 213.5597278689 * t);
-        Y0 += 0.00000253052 * Math.cos(2.67224328276 + 404.5067903482 * t);
-        Y0 += 0.00000307227 * Math.cos(5.83295899287 + 483.2205421786 * t);
-        Y0 += 0.00000236798 * Math.cos(1.18644808787 + 1574.8458012822 * t);
-        Y0 += 0.00000251354 * Math.cos(5.49027488511 + 191.2076949102 * t);
-        Y0 += 0.00000269096 * Math.cos(6.08409110657 + 1045.1548361876 * t);
-        Y0 += 0.00000241616 * Math.cos(4.17757086737 + 221.3758502853 * t);
-        Y0 += 0.00000247351 * Math.cos(4.14967259359 + 275.5505210331 * t);
-        Y0 += 0.00000292774 * Math.cos(2.29160155390 + 424.1505103212 * t);
-        Y0 += 0.00000273849 * Math.cos(0.48976257091 + 106.2741679563 * t);
-        Y0 += 0.00000305045 * Math.cos(0.18263234556 + 6283.0758499914 * t);
-        Y0 += 0.00000237397 * Math.cos(3.38925999152 + 235.3904959658 * t);
-        Y0 += 0.00000211029 * Math.cos(4.73396446560 + 543.9180590962 * t);
-        Y0 += 0.00000206826 * Math.cos(2.89687953034 + 842.1506814881 * t);
-        Y0 += 0.00000232878 * Math.cos(1.32938721664 + 39.3568759152 * t);
-        Y0 += 0.00000269270 * Math.cos(1.92392937845 + 121.2520214833 * t);
-        Y0 += 0.00000202662 * Math.cos(6.03169886301 + 2104.5367663768 * t);
-        Y0 += 0.00000230906 * Math.cos(2.46511266784 + 497.4476361802 * t);
-        Y0 += 0.00000218872 * Math.cos(0.86295345782 + 8.0767548473 * t);
-        Y0 += 0.00000203946 * Math.cos(1.38528238326 + 284.1485407422 * t);
-        Y0 += 0.00000216481 * Math.cos(4.58190569482 + 429.0458714308 * t);
-        Y0 += 0.00000240544 * Math.cos(0.08933614222 + 269.9214467406 * t);
-        Y0 += 0.00000212434 * Math.cos(5.38637581028 + 650.9429865779 * t);
-        Y0 += 0.00000236820 * Math.cos(2.00313603940 + 219.4494345923 * t);
-        Y0 += 0.00000214707 * Math.cos(1.40555033199 + 425.6349830295 * t);
-        Y0 += 0.00000197134 * Math.cos(0.24363457264 + 1898.3512179396 * t);
-        Y0 += 0.00000190659 * Math.cos(2.72280889899 + 355.7487455718 * t);
-        Y0 += 0.00000173751 * Math.cos(1.72051113398 + 426.6463749858 * t);
-        Y0 += 0.00000169750 * Math.cos(3.20987625429 + 501.3797894433 * t);
-        Y0 += 0.00000173746 * Math.cos(4.80590161850 + 426.5500067662 * t);
-        Y0 += 0.00000168051 * Math.cos(5.46526862654 + 312.4597163935 * t);
-        Y0 += 0.00000181170 * Math.cos(3.85220242553 + 1795.258443721 * t);
-        Y0 += 0.00000182549 * Math.cos(5.95923923503 + 210.5907824523 * t);
-        Y0 += 0.00000179528 * Math.cos(2.07197179284 + 216.0074084237 * t);
-        Y0 += 0.00000188571 * Math.cos(2.33544585541 + 618.5566453116 * t);
-        Y0 += 0.00000180830 * Math.cos(1.50904200578 + 84.3428261229 * t);
-        Y0 += 0.00000186121 * Math.cos(5.22455005386 + 427.5613987225 * t);
-        Y0 += 0.00000196312 * Math.cos(4.90432953947 + 2317.8358618148 * t);
-        Y0 += 0.00000198340 * Math.cos(3.69541361584 + 488.8496164711 * t);
-        Y0 += 0.00000156017 * Math.cos(1.90383812302 + 1375.7737998458 * t);
-        Y0 += 0.00000151676 * Math.cos(2.56675310055 + 213.4591541324 * t);
-        Y0 += 0.00000151676 * Math.cos(5.46446571963 + 213.1390367436 * t);
-        Y0 += 0.00000151429 * Math.cos(2.33434011196 + 220.4608265486 * t);
-        Y0 += 0.00000167545 * Math.cos(1.83420005749 + 1279.794572628 * t);
-        Y0 += 0.00000190528 * Math.cos(6.02427347834 + 207.1487562837 * t);
-        Y0 += 0.00000180421 * Math.cos(4.76213875112 + 491.8185618877 * t);
-        Y0 += 0.00000180390 * Math.cos(1.05469577674 + 344.7030453079 * t);
-        Y0 += 0.00000146615 * Math.cos(5.44168799419 + 220.364458329 * t);
-        Y0 += 0.00000194447 * Math.cos(2.62404840122 + 188.9200730498 * t);
-        Y0 += 0.00000136976 * Math.cos(0.70428757869 + 1148.2476104062 * t);
-        Y0 += 0.00000185075 * Math.cos(3.55365539139 + 601.7642506762 * t);
-        Y0 += 0.00000158868 * Math.cos(1.84813378152 + 179.3588454942 * t);
-        Y0 += 0.00000145472 * Math.cos(1.21853593658 + 636.7158925763 * t);
-        Y0 += 0.00000155991 * Math.cos(3.42111288262 + 289.5651667136 * t);
-        Y0 += 0.00000159449 * Math.cos(3.96675364143 + 358.9301393095 * t);
-        Y0 += 0.00000138962 * Math.cos(1.62828990596 + 436.1594184316 * t);
-        Y0 += 0.00000163232 * Math.cos(1.79954755413 + 73.297125859 * t);
-        Y0 += 0.00000177559 * Math.cos(1.60628671275 + 10213.285546211 * t);
-        Y0 += 0.00000174048 * Math.cos(5.38802135330 + 237.6781178262 * t);
-        Y0 += 0.00000125284 * Math.cos(1.76243276586 + 643.8294395771 * t);
-        Y0 += 0.00000131798 * Math.cos(0.93003850215 + 212.0270710508 * t);
-        Y0 += 0.00000147344 * Math.cos(1.52448539161 + 617.8058857862 * t);
-        Y0 += 0.00000130710 * Math.cos(0.81771148871 + 214.5711198252 * t);
-        Y0 += 0.00000123423 * Math.cos(0.17360907837 + 621.7380390493 * t);
-        Y0 += 0.00000132653 * Math.cos(4.08171658773 + 4.665866446 * t);
-        Y0 += 0.00000116763 * Math.cos(0.03834317084 + 113.3877149571 * t);
-        Y0 += 0.00000117597 * Math.cos(0.90279986158 + 1891.2376709388 * t);
-        Y0 += 0.00000115112 * Math.cos(3.65333095084 + 5.6290742925 * t);
-        Y0 += 0.00000112534 * Math.cos(5.68635818339 + 206.1373643274 * t);
-        Y0 += 0.00000128649 * Math.cos(6.16927510347 + 247.2393453818 * t);
-        Y0 += 0.00000111075 * Math.cos(4.41850119615 + 107.0249274817 * t);
-        Y0 += 0.00000109023 * Math.cos(3.90106019375 + 114.3991069134 * t);
-        Y0 += 0.00000114394 * Math.cos(5.42454880430 + 32.2433289144 * t);
-        Y0 += 0.00000106221 * Math.cos(0.24090572807 + 767.3690829208 * t);
-        Y0 += 0.00000126251 * Math.cos(2.79961544501 + 181.0557665236 * t);
-        Y0 += 0.00000102514 * Math.cos(5.96313041202 + 0.9632078465 * t);
-        Y0 += 0.00000107636 * Math.cos(2.57069606934 + 206.233732547 * t);
-        Y0 += 0.00000120584 * Math.cos(0.17406709675 + 342.2553647531 * t);
-        Y0 += 0.00000134800 * Math.cos(1.20576280285 + 35.4247226521 * t);
-        Y0 += 0.00000105828 * Math.cos(6.16888247845 + 219.891377577 * t);
-        Y0 += 0.00000104337 * Math.cos(2.46235960097 + 1073.6090241908 * t);
-        Y0 += 0.00000095115 * Math.cos(3.59922461581 + 643.0786800517 * t);
-        Y0 += 0.00000099528 * Math.cos(6.13536812132 + 426.0769260142 * t);
-        Y0 += 0.00000104663 * Math.cos(5.88419995684 + 1361.5467058442 * t);
-        Y0 += 0.00000094747 * Math.cos(5.77564110292 + 2420.9286360334 * t);
-        Y0 += 0.00000095620 * Math.cos(4.45357940681 + 447.9388318784 * t);
-        Y0 += 0.00000130015 * Math.cos(5.07630034396 + 245.5424243524 * t);
-        Y0 += 0.00000101365 * Math.cos(6.23985111882 + 2214.7430875962 * t);
-        Y0 += 0.00000090474 * Math.cos(2.86757655481 + 525.4981794006 * t);
-        Y0 += 0.00000087892 * Math.cos(4.76749308085 + 87.3117715395 * t);
-        Y0 += 0.00000090513 * Math.cos(5.66908341298 + 92.0470739547 * t);
-        Y0 += 0.00000081847 * Math.cos(1.67799021003 + 20.6069278195 * t);
-        Y0 += 0.00000091321 * Math.cos(0.36728160716 + 427.1194557378 * t);
-        Y0 += 0.00000080705 * Math.cos(1.93891112794 + 320.3240229197 * t);
-        Y0 += 0.00000091143 * Math.cos(2.01894680272 + 206.706813299 * t);
-        Y0 += 0.00000097745 * Math.cos(6.23005888799 + 4.192785694 * t);
-        Y0 += 0.00000079749 * Math.cos(3.26351898499 + 159.1244246902 * t);
-        Y0 += 0.00000100483 * Math.cos(1.98515948445 + 140.001969579 * t);
-        Y0 += 0.00000086568 * Math.cos(0.91442175672 + 78.7137518304 * t);
-        Y0 += 0.00000077990 * Math.cos(1.66809322351 + 14.0146456805 * t);
-        Y0 += 0.00000076329 * Math.cos(5.90195594455 + 543.0242872189 * t);
-        Y0 += 0.00000074957 * Math.cos(4.60768341839 + 420.9691165835 * t);
-        Y0 += 0.00000077269 * Math.cos(2.80019747431 + 67.6680515665 * t);
-        Y0 += 0.00000080180 * Math.cos(1.76473699777 + 125.9873238985 * t);
-        Y0 += 0.00000071100 * Math.cos(0.89129238653 + 630.3360587584 * t);
-        Y0 += 0.00000076008 * Math.cos(4.57174101646 + 134.5853436076 * t);
-        Y0 += 0.00000076857 * Math.cos(4.88095052633 + 692.5874843535 * t);
-        Y0 += 0.00000069326 * Math.cos(4.40670817988 + 212.0752551606 * t);
-        Y0 += 0.00000069326 * Math.cos(3.62451064029 + 214.5229357154 * t);
-        Y0 += 0.00000076210 * Math.cos(1.91960721245 + 934.9485149682 * t);
-        Y0 += 0.00000071834 * Math.cos(3.47310524934 + 2111.6503133776 * t);
-        Y0 += 0.00000085047 * Math.cos(3.18774989859 + 54.1746707478 * t);
-        Y0 += 0.00000081906 * Math.cos(0.02823325050 + 353.301065017 * t);
-        Y0 += 0.00000091385 * Math.cos(2.24806332628 + 776.9303104764 * t);
-        Y0 += 0.00000083341 * Math.cos(4.67038022346 + 2634.2277314714 * t);
-        Y0 += 0.00000086493 * Math.cos(1.15488292363 + 916.9322800554 * t);
-        Y0 += 0.00000076520 * Math.cos(5.70422944555 + 144.1465711632 * t);
-        Y0 += 0.00000083998 * Math.cos(1.30453941538 + 69.1525242748 * t);
-        Y0 += 0.00000066684 * Math.cos(0.76966880509 + 423.6774295692 * t);
-        Y0 += 0.00000064747 * Math.cos(4.57928856242 + 128.9562693151 * t);
-        Y0 += 0.00000070850 * Math.cos(4.61521587231 + 211.6021744086 * t);
-        Y0 += 0.00000065595 * Math.cos(3.23651495782 + 6.1503391543 * t);
-        Y0 += 0.00000064137 * Math.cos(0.44216461549 + 1464.6394800628 * t);
-        Y0 += 0.00000075579 * Math.cos(2.72064725811 + 153.4953503977 * t);
-        Y0 += 0.00000063366 * Math.cos(4.99065911889 + 184.9879197867 * t);
-        Y0 += 0.00000073570 * Math.cos(6.14451890498 + 286.596221297 * t);
-        Y0 += 0.00000064126 * Math.cos(1.30105389213 + 2.9207613068 * t);
-        Y0 += 0.00000073606 * Math.cos(0.31879952982 + 1272.6810256272 * t);
-        Y0 += 0.00000061422 * Math.cos(4.93336864703 + 267.4737661858 * t);
-        Y0 += 0.00000078591 * Math.cos(5.90644184590 + 46.470422916 * t);
-        Y0 += 0.00000070325 * Math.cos(4.73999009945 + 337.732510659 * t);
-        Y0 += 0.00000067029 * Math.cos(2.10509391932 + 33.9402499438 * t);
-        Y0 += 0.00000059139 * Math.cos(6.25938993884 + 51.2057253312 * t);
-        Y0 += 0.00000059935 * Math.cos(0.62832430985 + 2207.6295405954 * t);
-        Y0 += 0.00000078834 * Math.cos(4.61551671847 + 299.1263942692 * t);
-        Y0 += 0.00000063494 * Math.cos(0.80826123304 + 391.1734682239 * t);
-        Y0 += 0.00000059971 * Math.cos(5.45076407738 + 182.279606801 * t);
-        Y0 += 0.00000066001 * Math.cos(2.50975335235 + 778.4147831847 * t);
-        Y0 += 0.00000066705 * Math.cos(0.99016626571 + 220.9339073006 * t);
-        Y0 += 0.00000065833 * Math.cos(1.74010602145 + 416.3032501375 * t);
-        Y0 += 0.00000055245 * Math.cos(4.21009430774 + 436.8931316145 * t);
-        Y0 += 0.00000061866 * Math.cos(0.96601636837 + 14.977853527 * t);
-        Y0 += 0.00000066195 * Math.cos(4.88980737223 + 696.5196376166 * t);
-        Y0 += 0.00000068948 * Math.cos(6.02250542420 + 305.3461693927 * t);
-        Y0 += 0.00000054609 * Math.cos(0.00793727320 + 387.2413149608 * t);
-        Y0 += 0.00000059022 * Math.cos(3.40769037534 + 214.9960164674 * t);
-        Y0 += 0.00000054036 * Math.cos(4.61708325976 + 627.3671133418 * t);
-        Y0 += 0.00000070977 * Math.cos(4.86234954710 + 487.3651437628 * t);
-        Y0 += 0.00000063311 * Math.cos(3.50812337721 + 576.1613880106 * t);
-        Y0 += 0.00000066652 * Math.cos(5.42597089634 + 2.9689454166 * t);
-        Y0 += 0.00000066791 * Math.cos(4.95921724777 + 116.4260963429 * t);
-        Y0 += 0.00000052982 * Math.cos(2.94521665287 + 241.6102710893 * t);
-        Y0 += 0.00000054244 * Math.cos(1.77761196480 + 329.7251917809 * t);
-        Y0 += 0.00000064685 * Math.cos(4.11817037305 + 421.93232443 * t);
-        Y0 += 0.00000053229 * Math.cos(4.09328383786 + 292.0128472684 * t);
-        Y0 += 0.00000056864 * Math.cos(6.02030048296 + 444.7574381407 * t);
-        Y0 += 0.00000066066 * Math.cos(0.00795410014 + 1169.5882514086 * t);
-        Y0 += 0.00000050139 * Math.cos(0.33981792989 + 7.065362891 * t);
-        Y0 += 0.00000050427 * Math.cos(3.58218487728 + 211.8628068395 * t);
-        Y0 += 0.00000050427 * Math.cos(4.44903394289 + 214.7353840365 * t);
-        Y0 += 0.00000052408 * Math.cos(2.49871082273 + 282.4516197128 * t);
-        Y0 += 0.00000052915 * Math.cos(3.66309570535 + 199.2844497575 * t);
-        Y0 += 0.00000055592 * Math.cos(3.43165296192 + 221.1634019642 * t);
-        Y0 += 0.00000047715 * Math.cos(5.10534935586 + 219.6618829134 * t);
-        Y0 += 0.00000056847 * Math.cos(0.97741250258 + 418.5214360287 * t);
-        Y0 += 0.00000059393 * Math.cos(5.04777216540 + 439.1283638482 * t);
-        Y0 += 0.00000049622 * Math.cos(1.07397902514 + 430.79097657 * t);
-        Y0 += 0.00000048678 * Math.cos(1.59398431827 + 96.8729990951 * t);
-        Y0 += 0.00000048710 * Math.cos(5.60640836585 + 429.5189521828 * t);
-        Y0 += 0.00000046209 * Math.cos(4.54083648481 + 425.8474313506 * t);
-        Y0 += 0.00000051493 * Math.cos(5.97425873524 + 2531.1349572528 * t);
-        Y0 += 0.00000051412 * Math.cos(5.76661298592 + 518.6452648307 * t);
-        Y0 += 0.00000047005 * Math.cos(2.61649558438 + 31.019488637 * t);
-        Y0 += 0.00000045618 * Math.cos(5.66704236554 + 273.1028404783 * t);
-        Y0 += 0.00000044467 * Math.cos(5.53037319900 + 2737.32050569 * t);
-        Y0 += 0.00000055947 * Math.cos(0.51535719965 + 638.4128136057 * t);
-        Y0 += 0.00000042519 * Math.cos(2.70084502599 + 5.4166259714 * t);
-        Y0 += 0.00000042505 * Math.cos(5.31459145594 + 421.1815649046 * t);
-        Y0 += 0.00000048382 * Math.cos(3.51641445336 + 7.1617311106 * t);
-        Y0 += 0.00000042004 * Math.cos(0.91254981055 + 280.9671470045 * t);
-        Y0 += 0.00000041851 * Math.cos(2.36099631927 + 244.318584075 * t);
-        Y0 += 0.00000052538 * Math.cos(4.47099895134 + 205.4347889118 * t);
-        Y0 += 0.00000041378 * Math.cos(3.38701415728 + 59.8037450403 * t);
-        Y0 += 0.00000041254 * Math.cos(4.01431999731 + 120.358249606 * t);
-        Y0 += 0.00000046802 * Math.cos(0.01622711468 + 558.0021407459 * t);
-        Y0 += 0.00000052883 * Math.cos(2.83931668083 + 166.828672522 * t);
-        Y0 += 0.00000041956 * Math.cos(5.69540610025 + 1677.9385755008 * t);
-        Y0 += 0.00000050113 * Math.cos(1.81016163546 + 6.592282139 * t);
-        Y0 += 0.00000045107 * Math.cos(4.49380088938 + 227.3137411185 * t);
-        Y0 += 0.00000045964 * Math.cos(0.75454904800 + 205.6642835754 * t);
-        Y0 += 0.00000046355 * Math.cos(1.53774731019 + 432.2272651685 * t);
-        Y0 += 0.00000037172 * Math.cos(2.93645417223 + 206.9363079626 * t);
-        Y0 += 0.00000036628 * Math.cos(2.09707542805 + 427.3489504014 * t);
-        Y0 += 0.00000045029 * Math.cos(0.46131983164 + 428.0826635843 * t);
-        Y0 += 0.00000038453 * Math.cos(4.42450266346 + 209.1544938538 * t);
-        Y0 += 0.00000040433 * Math.cos(5.16219115737 + 233.9060232575 * t);
-        Y0 += 0.00000049147 * Math.cos(4.62085574884 + 3340.6124266998 * t);
-        Y0 += 0.00000037471 * Math.cos(3.60681221764 + 217.4436970222 * t);
-        Y0 += 0.00000046113 * Math.cos(5.55096889463 + 212.4053235607 * t);
-        Y0 += 0.00000046113 * Math.cos(2.48024992554 + 214.1928673153 * t);
-        Y0 += 0.00000036077 * Math.cos(3.08476346783 + 867.4234757536 * t);
-        Y0 += 0.00000037160 * Math.cos(3.14289320760 + 41.6444977756 * t);
-        Y0 += 0.00000037350 * Math.cos(1.63735841154 + 1251.3403846248 * t);
-        Y0 += 0.00000035072 * Math.cos(6.23912039279 + 181.806526049 * t);
-        Y0 += 0.00000039215 * Math.cos(4.12162482146 + 28.3111756513 * t);
-        Y0 += 0.00000039775 * Math.cos(4.04549743419 + 339.2864193365 * t);
-        Y0 += 0.00000037635 * Math.cos(1.44659682623 + 347.8844390456 * t);
-        Y0 += 0.00000045853 * Math.cos(3.13205357665 + 192.6921676185 * t);
-        Y0 += 0.00000039323 * Math.cos(3.20138954128 + 756.3233826569 * t);
-        Y0 += 0.00000044137 * Math.cos(5.48321215590 + 135.5485514541 * t);
-        Y0 += 0.00000034157 * Math.cos(3.94135052425 + 81.7521332162 * t);
-        Y0 += 0.00000032207 * Math.cos(1.93681169587 + 313.2104759189 * t);
-        Y0 += 0.00000036698 * Math.cos(2.11524812183 + 431.264057322 * t);
-        Y0 += 0.00000031105 * Math.cos(0.18786474496 + 1781.0313497194 * t);
-        Y0 += 0.00000031230 * Math.cos(0.23280228607 + 405.9912630565 * t);
-        Y0 += 0.00000037384 * Math.cos(4.45699108315 + 319.5732633943 * t);
-        Y0 += 0.00000039779 * Math.cos(4.74985208556 + 738.7972748386 * t);
-        Y0 += 0.00000034739 * Math.cos(0.32638897125 + 77.7505439839 * t);
-        Y0 += 0.00000035892 * Math.cos(4.44540281948 + 2950.619601128 * t);
-        Y0 += 0.00000039342 * Math.cos(0.62472997033 + 373.9079928365 * t);
-        Y0 += 0.00000029650 * Math.cos(3.37204650277 + 274.0660483248 * t);
-        Y0 += 0.00000031782 * Math.cos(4.13370262314 + 24.3790223882 * t);
-        Y0 += 0.00000030193 * Math.cos(0.35423807736 + 2524.021410252 * t);
-        Y0 += 0.00000031118 * Math.cos(1.69116341490 + 465.9550667912 * t);
-        Y0 += 0.00000029441 * Math.cos(3.03544092290 + 2428.0421830342 * t);
-        Y0 += 0.00000038171 * Math.cos(4.76939417514 + 145.6310438715 * t);
-        Y0 += 0.00000029292 * Math.cos(4.61105433395 + 131.5469622218 * t);
-        Y0 += 0.00000028756 * Math.cos(4.87076509051 + 192.8522263129 * t);
-        Y0 += 0.00000031497 * Math.cos(4.15219792180 + 468.2426886516 * t);
-        Y0 += 0.00000034699 * Math.cos(1.27595242408 + 381.3516082374 * t);
-        Y0 += 0.00000027274 * Math.cos(2.45030050983 + 60.7669528868 * t);
-        Y0 += 0.00000027836 * Math.cos(5.88920583793 + 216.2680408546 * t);
-        Y0 += 0.00000034964 * Math.cos(4.96686863310 + 23.5758732361 * t);
-        Y0 += 0.00000028750 * Math.cos(6.23126382059 + 333.657345044 * t);
-        Y0 += 0.00000027255 * Math.cos(1.69447975245 + 244.791664827 * t);
-        Y0 += 0.00000029305 * Math.cos(1.98340428594 + 464.7312265138 * t);
-        Y0 += 0.00000031737 * Math.cos(2.99242362906 + 0.7507595254 * t);
-        Y0 += 0.00000027051 * Math.cos(1.35484538064 + 361.3778198643 * t);
-        Y0 += 0.00000034731 * Math.cos(5.82393475591 + 39.6175083461 * t);
-        Y0 += 0.00000034058 * Math.cos(1.75751565147 + 405.2575498736 * t);
-        Y0 += 0.00000033607 * Math.cos(4.20725171012 + 395.578702239 * t);
-        Y0 += 0.00000026325 * Math.cos(2.16951933975 + 0.5212648618 * t);
-        Y0 += 0.00000027057 * Math.cos(2.08658456308 + 210.3301500214 * t);
-        Y0 += 0.00000026627 * Math.cos(1.22485059499 + 681.5417840896 * t);
-        Y0 += 0.00000029985 * Math.cos(1.75140772777 + 710.7467316182 * t);
-        Y0 += 0.00000029611 * Math.cos(3.03563269574 + 295.0512286542 * t);
-        Y0 += 0.00000031637 * Math.cos(2.07116043946 + 1692.1656695024 * t);
-        Y0 += 0.00000025305 * Math.cos(3.16045424330 + 233.7459645631 * t);
-        Y0 += 0.00000026679 * Math.cos(5.17299701811 + 494.2662424425 * t);
-        Y0 += 0.00000025384 * Math.cos(3.22791759769 + 16.6747745564 * t);
-        Y0 += 0.00000025196 * Math.cos(0.12107682753 + 412.5835451955 * t);
-        Y0 += 0.00000034215 * Math.cos(5.10822596181 + 259.769518354 * t);
-        Y0 += 0.00000033250 * Math.cos(0.30954521223 + 162.0933701068 * t);
-        Y0 += 0.00000025742 * Math.cos(1.25888857316 + 477.8039162072 * t);
-        Y0 += 0.00000029765 * Math.cos(4.52626132577 + 129.9194771616 * t);
-        Y0 += 0.00000025034 * Math.cos(4.88552569459 + 420.4478517217 * t);
-        Y0 += 0.00000026200 * Math.cos(2.20762141616 + 45.5766510387 * t);
-        Y0 += 0.00000023913 * Math.cos(3.85751439026 + 162.8965192589 * t);
-        Y0 += 0.00000023970 * Math.cos(2.34887571453 + 264.5048207692 * t);
-        Y0 += 0.00000033556 * Math.cos(3.87396335885 + 27.0873353739 * t);
-        Y0 += 0.00000027190 * Math.cos(3.46933216009 + 214.9436268407 * t);
-        Y0 += 0.00000027190 * Math.cos(4.56188666009 + 211.6545640353 * t);
-        Y0 += 0.00000025644 * Math.cos(2.29213712683 + 229.9738699944 * t);
-        Y0 += 0.00000023511 * Math.cos(5.11817349516 + 212.4959462859 * t);
-        Y0 += 0.00000023511 * Math.cos(2.91304532501 + 214.1022445901 * t);
-        Y0 += 0.00000028674 * Math.cos(5.94721164471 + 454.9093665273 * t);
-        Y0 += 0.00000023833 * Math.cos(6.14424686939 + 422.405405182 * t);
-        Y0 += 0.00000025612 * Math.cos(1.72388920925 + 411.620337349 * t);
-        Y0 += 0.00000022864 * Math.cos(0.11268233469 + 2118.7638603784 * t);
-        Y0 += 0.00000025496 * Math.cos(5.69074258555 + 2847.5268269094 * t);
-        Y0 += 0.00000024172 * Math.cos(4.01730348395 + 184.7272873558 * t);
-        Y0 += 0.00000022472 * Math.cos(2.15633918584 + 7.6348118626 * t);
-        Y0 += 0.00000026222 * Math.cos(2.80143128349 + 31.492569389 * t);
-        Y0 += 0.00000022198 * Math.cos(0.91804268520 + 426.4863162914 * t);
-        Y0 += 0.00000023226 * Math.cos(6.03563080998 + 207.0793203145 * t);
-        Y0 += 0.00000021720 * Math.cos(1.02524191391 + 432.0148168474 * t);
-        Y0 += 0.00000021569 * Math.cos(1.63592154899 + 224.6054281328 * t);
-        Y0 += 0.00000022198 * Math.cos(5.61107049084 + 426.7100654606 * t);
-        Y0 += 0.00000022961 * Math.cos(2.58109891107 + 92.940845832 * t);
-        Y0 += 0.00000022695 * Math.cos(6.24214736431 + 223.3334037456 * t);
-        Y0 += 0.00000020843 * Math.cos(3.43174352438 + 472.1748419147 * t);
-        Y0 += 0.00000022283 * Math.cos(1.99778424604 + 219.5188705615 * t);
-        Y0 += 0.00000020519 * Math.cos(5.28715778940 + 3053.7123753466 * t);
-        Y0 += 0.00000024105 * Math.cos(0.97906190272 + 334.5511169213 * t);
-        Y0 += 0.00000020030 * Math.cos(2.81675406065 + 849.2642284889 * t);
-        Y0 += 0.00000027048 * Math.cos(4.84076938460 + 36.6485629295 * t);
-        Y0 += 0.00000019844 * Math.cos(0.43567116631 + 1485.9801210652 * t);
-        Y0 += 0.00000019519 * Math.cos(1.31453508293 + 357.4456666012 * t);
-        Y0 += 0.00000021045 * Math.cos(4.00724213785 + 241.8709035202 * t);
-        Y0 += 0.00000021410 * Math.cos(0.86161640271 + 343.2185725996 * t);
-        Y0 += 0.00000022079 * Math.cos(1.96835810931 + 186.2117600641 * t);
-        Y0 += 0.00000024839 * Math.cos(2.65438981650 + 46.2097904851 * t);
-        Y0 += 0.00000018921 * Math.cos(3.45842911419 + 171.6545976624 * t);
-        Y0 += 0.00000018653 * Math.cos(4.99142844854 + 426.8106391971 * t);
-        Y0 += 0.00000023815 * Math.cos(6.02632859549 + 112.6540017742 * t);
-        Y0 += 0.00000018653 * Math.cos(1.53768472751 + 426.3857425549 * t);
-        Y0 += 0.00000018843 * Math.cos(6.17211329882 + 555.5544601911 * t);
-        Y0 += 0.00000019727 * Math.cos(6.15337850264 + 100.6450936638 * t);
-        Y0 += 0.00000022972 * Math.cos(4.85207087547 + 450.9772132642 * t);
-        Y0 += 0.00000023844 * Math.cos(4.55885748022 + 593.426863398 * t);
-        Y0 += 0.00000020032 * Math.cos(1.35662572450 + 1567.7322542814 * t);
-        Y0 += 0.00000019430 * Math.cos(0.49889379660 + 392.6579409322 * t);
-        Y0 += 0.00000018248 * Math.cos(1.16940315494 + 508.3503240922 * t);
-        Y0 += 0.00000023767 * Math.cos(4.50296212000 + 462.0229135281 * t);
-        Y0 += 0.00000019372 * Math.cos(0.24140775392 + 831.1049812242 * t);
-        Y0 += 0.00000017673 * Math.cos(4.71901812794 + 525.7588118315 * t);
-        Y0 += 0.00000021013 * Math.cos(2.13939539715 + 402.2191684878 * t);
-        Y0 += 0.00000018535 * Math.cos(5.57136714221 + 546.956440482 * t);
-        Y0 += 0.00000019930 * Math.cos(0.14722884397 + 533.6231183577 * t);
-        Y0 += 0.00000019726 * Math.cos(3.64855444024 + 963.4027029714 * t);
-        Y0 += 0.00000022398 * Math.cos(6.21091779253 + 556.5176680376 * t);
-        Y0 += 0.00000017812 * Math.cos(4.67876860218 + 460.5384408198 * t);
-        Y0 += 0.00000017239 * Math.cos(2.19638364637 + 1055.4497769261 * t);
-        Y0 += 0.00000020404 * Math.cos(1.44835454438 + 458.8415197904 * t);
-        Y0 += 0.00000017078 * Math.cos(3.03651511220 + 146.594251718 * t);
-        Y0 += 0.00000017127 * Math.cos(1.42593326651 + 419.532827985 * t);
-        Y0 += 0.00000023833 * Math.cos(2.58926520909 + 141.2258098564 * t);
-        Y0 += 0.00000018879 * Math.cos(3.13780715639 + 572.2292347475 * t);
-        Y0 += 0.00000018098 * Math.cos(4.67997866940 + 230.7075831773 * t);
-        Y0 += 0.00000020564 * Math.cos(1.73670066361 + 156.6767441354 * t);
-        Y0 += 0.00000018221 * Math.cos(1.66360953902 + 561.1835344836 * t);
-        Y0 += 0.00000017235 * Math.cos(5.69642460408 + 254.9435932136 * t);
-        Y0 += 0.00000018568 * Math.cos(2.70940427752 + 152.5321425512 * t);
-        Y0 += 0.00000017269 * Math.cos(4.52531012357 + 199.9657733137 * t);
-        Y0 += 0.00000017264 * Math.cos(3.70601205694 + 295.1942410061 * t);
-        Y0 += 0.00000020777 * Math.cos(1.66799856647 + 175.4266922311 * t);
-        Y0 += 0.00000016444 * Math.cos(4.28983295170 + 263.7016716171 * t);
-        Y0 += 0.00000018781 * Math.cos(6.05523756391 + 240.3864308119 * t);
-        Y0 += 0.00000022334 * Math.cos(2.49164712100 + 423.6292454594 * t);
-        Y0 += 0.00000016374 * Math.cos(4.05318035950 + 757.2171545342 * t);
-        Y0 += 0.00000018789 * Math.cos(1.52193629561 + 66.70484372 * t);
-        Y0 += 0.00000022359 * Math.cos(5.94675603401 + 486.4019359163 * t);
-        Y0 += 0.00000015958 * Math.cos(6.18474282955 + 2097.423219376 * t);
-        Y0 += 0.00000021495 * Math.cos(1.80009954963 + 206.3979967583 * t);
-        Y0 += 0.00000016498 * Math.cos(5.52997951230 + 1994.3304451574 * t);
-        Y0 += 0.00000017370 * Math.cos(3.48286795322 + 552.5855147745 * t);
-        Y0 += 0.00000018321 * Math.cos(0.71302333930 + 50.4025761791 * t);
-        Y0 += 0.00000018291 * Math.cos(0.84252688005 + 100.3844612329 * t);
-        Y0 += 0.00000017455 * Math.cos(1.71250488224 + 905.8865797915 * t);
-        Y0 += 0.00000015961 * Math.cos(0.08620485585 + 2840.4132799086 * t);
-        Y0 += 0.00000015567 * Math.cos(1.54318325188 + 220.3007678542 * t);
-        Y0 += 0.00000016067 * Math.cos(3.49794734385 + 226.6324175623 * t);
-        Y0 += 0.00000015648 * Math.cos(1.56688636016 + 211.2933578679 * t);
-        Y0 += 0.00000015648 * Math.cos(0.18114715284 + 215.3048330081 * t);
-        Y0 += 0.00000018382 * Math.cos(0.18848462965 + 220.2001941177 * t);
-        Y0 += 0.00000018947 * Math.cos(1.50194389720 + 637.4496057592 * t);
-        Y0 += 0.00000020602 * Math.cos(5.47900525864 + 285.3723810196 * t);
-        Y0 += 0.00000016290 * Math.cos(4.40037017827 + 41.0537969446 * t);
-        Y0 += 0.00000016595 * Math.cos(3.19935275989 + 364.3467652809 * t);
-        Y0 += 0.00000017326 * Math.cos(1.34597087283 + 199.8057146193 * t);
-        Y0 += 0.00000016253 * Math.cos(3.43269290331 + 109.2431133729 * t);
-        Y0 += 0.00000016383 * Math.cos(1.10309267801 + 203.8979265768 * t);
-        Y0 += 0.00000014710 * Math.cos(0.56450048893 + 110.1581371096 * t);
-        Y0 += 0.00000015065 * Math.cos(4.48008314400 + 258.8757464767 * t);
-        Y0 += 0.00000016371 * Math.cos(1.11833300339 + 81.8951455681 * t);
-        Y0 += 0.00000016641 * Math.cos(4.52681352135 + 419.4364597654 * t);
-        Y0 += 0.00000015483 * Math.cos(5.00138655264 + 409.9234163196 * t);
-        Y0 += 0.00000014822 * Math.cos(0.12437161534 + 195.7729876197 * t);
-        Y0 += 0.00000014820 * Math.cos(5.69441218507 + 835.0371344873 * t);
-        Y0 += 0.00000015930 * Math.cos(0.61706914429 + 172.4577468145 * t);
-        Y0 += 0.00000015790 * Math.cos(1.37001454466 + 348.8476468921 * t);
-        Y0 += 0.00000019923 * Math.cos(4.18939127616 + 107.7586406646 * t);
-        Y0 += 0.00000017952 * Math.cos(2.79348041670 + 82.8583534146 * t);
-        Y0 += 0.00000015462 * Math.cos(0.64414979340 + 222.7002642992 * t);
-        Y0 += 0.00000015877 * Math.cos(4.20691449361 + 17.2654753874 * t);
-        Y0 += 0.00000014016 * Math.cos(5.63689121224 + 426.8588233069 * t);
-        Y0 += 0.00000015062 * Math.cos(4.17432597418 + 441.576044403 * t);
-        Y0 += 0.00000014016 * Math.cos(0.89222201489 + 426.3375584451 * t);
-        Y0 += 0.00000014705 * Math.cos(3.76205802021 + 110.2545053292 * t);
-        Y0 += 0.00000014166 * Math.cos(5.11351042210 + 77.962992305 * t);
-        Y0 += 0.00000015302 * Math.cos(5.65006523821 + 980.6681783588 * t);
-        Y0 += 0.00000015926 * Math.cos(0.40206286298 + 226.7924762567 * t);
-        Y0 += 0.00000019008 * Math.cos(1.39536466934 + 72.0732855816 * t);
-        Y0 += 0.00000013632 * Math.cos(2.31331276774 + 13.3333221243 * t);
-        Y0 += 0.00000015012 * Math.cos(6.23427543593 + 220.5245170234 * t);
-        Y0 += 0.00000015647 * Math.cos(4.22924053362 + 3267.0114707846 * t);
-        Y0 += 0.00000014376 * Math.cos(2.59472611987 + 448.6895914038 * t);
-        Y0 += 0.00000018185 * Math.cos(3.04689762052 + 702.1487119091 * t);
-        Y0 += 0.00000015578 * Math.cos(2.79287881306 + 570.7447620392 * t);
-        Y0 += 0.00000016412 * Math.cos(1.18291299381 + 221.8971151471 * t);
-        Y0 += 0.00000013830 * Math.cos(3.43135660708 + 434.6749457233 * t);
-        Y0 += 0.00000018337 * Math.cos(4.67709417616 + 170.0100662597 * t);
-        Y0 += 0.00000016503 * Math.cos(0.86644103914 + 111.1695290659 * t);
-        Y0 += 0.00000017164 * Math.cos(2.66633764402 + 28.5718080822 * t);
-        Y0 += 0.00000013281 * Math.cos(1.62081717611 + 230.8252032563 * t);
-        Y0 += 0.00000012978 * Math.cos(5.00967719419 + 241.7532834412 * t);
-        Y0 += 0.00000013849 * Math.cos(0.56971120253 + 850.0149880143 * t);
-        Y0 += 0.00000015892 * Math.cos(2.38247604286 + 230.5645708254 * t);
-        Y0 += 0.00000014101 * Math.cos(1.45466687402 + 99.9113804809 * t);
-        Y0 += 0.00000013407 * Math.cos(0.01099066757 + 540.7366653585 * t);
-        Y0 += 0.00000013199 * Math.cos(4.38388584990 + 457.617679513 * t);
-        Y0 += 0.00000012620 * Math.cos(0.92344635694 + 131.4039498699 * t);
-        Y0 += 0.00000015831 * Math.cos(0.08492919982 + 251.1714986449 * t);
-        Y0 += 0.00000013957 * Math.cos(4.60482139712 + 864.2420820159 * t);
-        Y0 += 0.00000017463 * Math.cos(4.83400698243 + 569.0478410098 * t);
-        Y0 += 0.00000016676 * Math.cos(4.00720673932 + 705.1176573257 * t);
-        Y0 += 0.00000012993 * Math.cos(5.71458760363 + 193.655375465 * t);
-        Y0 += 0.00000015393 * Math.cos(0.15806990290 + 420.005908737 * t);
-        Y0 += 0.00000012127 * Math.cos(2.57414102933 + 2744.4340526908 * t);
-        Y0 += 0.00000012577 * Math.cos(0.31187279533 + 238.5718897035 * t);
-        Y0 += 0.00000012359 * Math.cos(5.19894120419 + 326.6868103951 * t);
-        Y0 += 0.00000013217 * Math.cos(2.66592366261 + 188.1693135244 * t);
-        Y0 += 0.00000014162 * Math.cos(4.87830248734 + 894.8408795276 * t);
-        Y0 += 0.00000011557 * Math.cos(5.03813004128 + 280.003939158 * t);
-        Y0 += 0.00000014282 * Math.cos(4.27263941293 + 42.5382696529 * t);
-        Y0 += 0.00000011924 * Math.cos(2.72411036904 + 380.12776796 * t);
-        Y0 += 0.00000012957 * Math.cos(5.40884833034 + 3163.918696566 * t);
-        Y0 += 0.00000011989 * Math.cos(4.02199963625 + 642.3449668688 * t);
-        Y0 += 0.00000011206 * Math.cos(2.55059167193 + 714.6788848813 * t);
-        Y0 += 0.00000011094 * Math.cos(3.77494369838 + 119.767548775 * t);
-        Y0 += 0.00000011265 * Math.cos(3.74313513949 + 403.0223176399 * t);
-        Y0 += 0.00000014433 * Math.cos(2.20590955504 + 386.9806825299 * t);
-        Y0 += 0.00000012049 * Math.cos(1.79618188447 + 203.2647871304 * t);
-        Y0 += 0.00000011058 * Math.cos(0.35405181917 + 17.5261078183 * t);
-        Y0 += 0.00000012095 * Math.cos(1.14547306649 + 254.1404440615 * t);
-        Y0 += 0.00000010842 * Math.cos(0.97259949349 + 639.9454704238 * t);
-        Y0 += 0.00000013350 * Math.cos(0.65575474438 + 638.9340784675 * t);
-        Y0 += 0.00000014697 * Math.cos(1.26523877234 + 432.7485300303 * t);
-        Y0 += 0.00000010935 * Math.cos(2.99474883979 + 19.1224551112 * t);
-        Y0 += 0.00000013741 * Math.cos(2.81160245841 + 815.0633461142 * t);
-        Y0 += 0.00000012848 * Math.cos(5.62672323243 + 196.0336200506 * t);
-        Y0 += 0.00000010879 * Math.cos(2.84976926802 + 820.0592809603 * t);
-        Y0 += 0.00000010518 * Math.cos(2.64349450169 + 97.6761482472 * t);
-        Y0 += 0.00000010570 * Math.cos(5.55557605599 + 606.7601855223 * t);
-        Y0 += 0.00000010505 * Math.cos(0.20513029140 + 206.2974230218 * t);
-        Y0 += 0.00000010385 * Math.cos(4.75266542249 + 196.8367692027 * t);
-        Y0 += 0.00000010842 * Math.cos(4.05799649461 + 639.8491022042 * t);
-        Y0 += 0.00000010315 * Math.cos(5.04748152372 + 3370.1042450032 * t);
-        Y0 += 0.00000010254 * Math.cos(0.18412125850 + 201.9927627432 * t);
-        Y0 += 0.00000010891 * Math.cos(1.07425081751 + 1884.124123938 * t);
-        Y0 += 0.00000010249 * Math.cos(1.25494504145 + 107.2855599126 * t);
-        Y0 += 0.00000009862 * Math.cos(1.78722934048 + 33.1371007917 * t);
-        Y0 += 0.00000013237 * Math.cos(4.82102210965 + 480.7728616238 * t);
-        Y0 += 0.00000010908 * Math.cos(4.50392808100 + 186.472392495 * t);
-        Y0 += 0.00000009594 * Math.cos(1.63466155819 + 433.7599219866 * t);
-        Y0 += 0.00000013192 * Math.cos(1.97304380339 + 2008.557539159 * t);
-        Y0 += 0.00000009944 * Math.cos(1.10909756879 + 47.6942631934 * t);
-        Y0 += 0.00000010478 * Math.cos(0.37560099716 + 189.7232222019 * t);
-        Y0 += 0.00000011233 * Math.cos(4.51872140986 + 640.8604941605 * t);
-        Y0 += 0.00000009492 * Math.cos(3.11486993450 + 106.0135355254 * t);
-        Y0 += 0.00000012985 * Math.cos(3.33325603152 + 256.5881246163 * t);
-        Y0 += 0.00000009546 * Math.cos(0.75076951952 + 219.1406180516 * t);
-        Y0 += 0.00000011258 * Math.cos(0.60066407106 + 526.5095713569 * t);
-        Y0 += 0.00000012721 * Math.cos(4.26318149453 + 170.7608257851 * t);
-        Y0 += 0.00000009370 * Math.cos(3.27855373671 + 229.7614216733 * t);
-        Y0 += 0.00000009245 * Math.cos(2.21550080989 + 406.954470903 * t);
-        Y0 += 0.00000011067 * Math.cos(3.43799154852 + 240.125798381 * t);
-        Y0 += 0.00000009735 * Math.cos(4.72972824448 + 433.663553767 * t);
-        Y0 += 0.00000010066 * Math.cos(5.20819082705 + 423.8898778903 * t);
-        Y0 += 0.00000011401 * Math.cos(4.60187128385 + 172.2452984934 * t);
-        Y0 += 0.00000012271 * Math.cos(0.45950418131 + 662.531203563 * t);
-        Y0 += 0.00000009355 * Math.cos(1.53347383876 + 194.1766403268 * t);
-        Y0 += 0.00000010379 * Math.cos(5.25618033429 + 238.4288773516 * t);
-        Y0 += 0.00000011289 * Math.cos(3.24732062670 + 389.9496279465 * t);
-        Y0 += 0.00000008924 * Math.cos(6.03883665364 + 19.643719973 * t);
-        Y0 += 0.00000008841 * Math.cos(0.50392103518 + 1802.3719907218 * t);
-        Y0 += 0.00000010267 * Math.cos(4.23756855504 + 746.9222137957 * t);
-        Y0 += 0.00000008733 * Math.cos(4.67037924875 + 157.6399519819 * t);
-        Y0 += 0.00000010066 * Math.cos(1.32092240008 + 429.3065038617 * t);
-        Y0 += 0.00000009374 * Math.cos(1.79762056777 + 206.0736738526 * t);
-        Y0 += 0.00000009533 * Math.cos(2.29107827195 + 236.8749686741 * t);
-        Y0 += 0.00000008433 * Math.cos(1.81570030403 + 426.7582495704 * t);
-        Y0 += 0.00000010715 * Math.cos(4.37027632759 + 495.7507151508 * t);
-        Y0 += 0.00000008433 * Math.cos(4.71341292310 + 426.4381321816 * t);
-        Y0 += 0.00000009526 * Math.cos(3.31288975087 + 384.0599212231 * t);
-        Y0 += 0.00000008366 * Math.cos(2.89420654474 + 89.7594520943 * t);
-        Y0 += 0.00000008491 * Math.cos(6.09666431453 + 3156.8051495652 * t);
-        Y0 += 0.00000009436 * Math.cos(1.12567006222 + 1493.093668066 * t);
-        Y0 += 0.00000009863 * Math.cos(1.00498501412 + 376.1956146969 * t);
-        Y0 += 0.00000008903 * Math.cos(0.86621106611 + 649.4585138696 * t);
-        Y0 += 0.00000008389 * Math.cos(0.30076958467 + 232.4215505492 * t);
-        Y0 += 0.00000008246 * Math.cos(0.71370891617 + 194.3890886479 * t);
-        Y0 += 0.00000008317 * Math.cos(3.70830433977 + 661.2379273164 * t);
-        Y0 += 0.00000011199 * Math.cos(5.06635124052 + 395.105621487 * t);
-        Y0 += 0.00000011220 * Math.cos(5.60781396892 + 453.6855262499 * t);
-        Y0 += 0.00000008086 * Math.cos(3.34184345438 + 385.5443939314 * t);
-        Y0 += 0.00000008096 * Math.cos(1.13101164600 + 824.7421937488 * t);
-        Y0 += 0.00000008959 * Math.cos(5.65941324166 + 187.4356003415 * t);
-        Y0 += 0.00000008026 * Math.cos(2.62564001618 + 313.6835566709 * t);
-        Y0 += 0.00000011002 * Math.cos(0.34533540558 + 354.5249052944 * t);
-        Y0 += 0.00000008380 * Math.cos(1.30664256598 + 857.1285350151 * t);
-        Y0 += 0.00000009920 * Math.cos(0.28888805593 + 204.7010757289 * t);
-        Y0 += 0.00000008727 * Math.cos(2.65844044975 + 196.6243208816 * t);
-        Y0 += 0.00000007978 * Math.cos(1.68245693691 + 394.3548619616 * t);
-        Y0 += 0.00000007712 * Math.cos(5.98060890594 + 2413.8150890326 * t);
-        Y0 += 0.00000009112 * Math.cos(4.34972455215 + 167.7224443993 * t);
-        Y0 += 0.00000009228 * Math.cos(0.22253166769 + 594.6507036754 * t);
-        Y0 += 0.00000009889 * Math.cos(2.79591836728 + 29.2049475286 * t);
-        Y0 += 0.00000007695 * Math.cos(1.00995675874 + 207.4575728244 * t);
-        Y0 += 0.00000007998 * Math.cos(4.19812784482 + 255.8373650909 * t);
-        Y0 += 0.00000008421 * Math.cos(2.65464574606 + 502.8642621516 * t);
-        Y0 += 0.00000009658 * Math.cos(5.37523639564 + 380.3884003909 * t);
-        Y0 += 0.00000007450 * Math.cos(6.00758654848 + 366.7944458357 * t);
-        Y0 += 0.00000009590 * Math.cos(5.19097739834 + 343.7398374614 * t);
-        Y0 += 0.00000007327 * Math.cos(1.03432503215 + 232.2091022281 * t);
-        Y0 += 0.00000007358 * Math.cos(4.89176431480 + 449.232108125 * t);
-        Y0 += 0.00000007649 * Math.cos(5.24109368050 + 1382.8873468466 * t);
-        Y0 += 0.00000007564 * Math.cos(2.72444649380 + 325.9530972122 * t);
-        Y0 += 0.00000009416 * Math.cos(4.48854222432 + 418.0001711669 * t);
-        Y0 += 0.00000007037 * Math.cos(5.89918763754 + 418.9633790134 * t);
-        Y0 += 0.00000009150 * Math.cos(0.91468054201 + 562.1467423301 * t);
-        Y0 += 0.00000007298 * Math.cos(0.17912713996 + 425.3261664888 * t);
-        Y0 += 0.00000007767 * Math.cos(3.44132053994 + 195.8906076987 * t);
-        Y0 += 0.00000007169 * Math.cos(0.78094936112 + 291.262087743 * t);
-        Y0 += 0.00000008066 * Math.cos(2.33980427517 + 84.9335269539 * t);
-        Y0 += 0.00000009120 * Math.cos(4.57102255131 + 112.9146342051 * t);
-        Y0 += 0.00000006841 * Math.cos(6.05461927306 + 397.3932433474 * t);
-        Y0 += 0.00000006688 * Math.cos(2.70758296796 + 313.9441891018 * t);
-        Y0 += 0.00000007544 * Math.cos(2.39660132843 + 239.1625905345 * t);
-        Y0 += 0.00000007298 * Math.cos(0.06680077999 + 427.8702152632 * t);
-        Y0 += 0.00000007038 * Math.cos(2.36428897508 + 110.7275860812 * t);
-        Y0 += 0.00000007821 * Math.cos(5.18741695859 + 176.6505325085 * t);
-        Y0 += 0.00000006649 * Math.cos(5.44986911188 + 2310.722314814 * t);
-        Y0 += 0.00000007539 * Math.cos(5.29427535852 + 25.6028626656 * t);
-        Y0 += 0.00000007418 * Math.cos(4.53992673926 + 700.6642392008 * t);
-        Y0 += 0.00000007095 * Math.cos(4.07590920492 + 3583.4033404412 * t);
-        Y0 += 0.00000008877 * Math.cos(3.05141226466 + 1905.4647649404 * t);
-        Y0 += 0.00000006935 * Math.cos(1.68866622749 + 1286.9081196288 * t);
-        Y0 += 0.00000006624 * Math.cos(3.38478404710 + 268.9582388941 * t);
-        Y0 += 0.00000006922 * Math.cos(5.86148555985 + 511.5317178299 * t);
-        Y0 += 0.00000008876 * Math.cos(1.45124442917 + 190.4045457581 * t);
-        Y0 += 0.00000008632 * Math.cos(5.94716297224 + 739.8086667949 * t);
-        Y0 += 0.00000006376 * Math.cos(3.04969045967 + 117.9105690512 * t);
-        Y0 += 0.00000007976 * Math.cos(6.27614086118 + 28.4541880032 * t);
-        Y0 += 0.00000008583 * Math.cos(1.38183299971 + 298.2326223919 * t);
-        Y0 += 0.00000006427 * Math.cos(5.78516785645 + 328.9220426288 * t);
-        Y0 += 0.00000006901 * Math.cos(2.93953956658 + 249.9476583675 * t);
-        Y0 += 0.00000006169 * Math.cos(0.02881162455 + 104.5772469269 * t);
-        Y0 += 0.00000007512 * Math.cos(5.57403695070 + 25.1297819136 * t);
-        Y0 += 0.00000007268 * Math.cos(0.55017036505 + 128.3655684841 * t);
-        Y0 += 0.00000007663 * Math.cos(4.59575677319 + 724.8308132679 * t);
-        Y0 += 0.00000007570 * Math.cos(1.45797407216 + 990.2294059144 * t);
-        Y0 += 0.00000006057 * Math.cos(2.85826530733 + 856.3777754897 * t);
-        Y0 += 0.00000007044 * Math.cos(0.74967263787 + 141.4864422873 * t);
-        Y0 += 0.00000006147 * Math.cos(5.38817990453 + 639.3760214522 * t);
-        Y0 += 0.00000005874 * Math.cos(1.44969396662 + 393.4610900843 * t);
-        Y0 += 0.00000005838 * Math.cos(4.69945144897 + 505.3119427064 * t);
-        Y0 += 0.00000005932 * Math.cos(4.48350348373 + 120.9913890524 * t);
-        Y0 += 0.00000005818 * Math.cos(3.32808006343 + 43.2890291783 * t);
-        Y0 += 0.00000007778 * Math.cos(1.43620402576 + 25.2727942655 * t);
-        Y0 += 0.00000006661 * Math.cos(3.45258138447 + 95.3885263868 * t);
-        Y0 += 0.00000005748 * Math.cos(0.04298421235 + 843.6351541964 * t);
-        Y0 += 0.00000006965 * Math.cos(4.20593012805 + 909.8187330546 * t);
-        Y0 += 0.00000005766 * Math.cos(4.84601849388 + 88.1149206916 * t);
-        Y0 += 0.00000007756 * Math.cos(1.93405266531 + 55.6591434561 * t);
-        Y0 += 0.00000006334 * Math.cos(1.84951949945 + 109.6850563576 * t);
-        Y0 += 0.00000005819 * Math.cos(4.80388713776 + 215.9592243139 * t);
-        Y0 += 0.00000005819 * Math.cos(3.22733168242 + 210.6389665621 * t);
-        Y0 += 0.00000006720 * Math.cos(1.66015821490 + 135.336103133 * t);
-        Y0 += 0.00000006628 * Math.cos(2.31043141001 + 611.4430983108 * t);
-        Y0 += 0.00000005550 * Math.cos(2.16803692359 + 3060.8259223474 * t);
-        Y0 += 0.00000007445 * Math.cos(0.29603600769 + 236.1936451179 * t);
-        Y0 += 0.00000006305 * Math.cos(5.07644380408 + 3480.3105662226 * t);
-        Y0 += 0.00000005773 * Math.cos(5.34909870712 + 97.4155158163 * t);
-        Y0 += 0.00000005959 * Math.cos(0.81674403093 + 2200.5159935946 * t);
-        Y0 += 0.00000005771 * Math.cos(4.76574145067 + 164.5410506616 * t);
-        Y0 += 0.00000005702 * Math.cos(4.85038864412 + 610.6923387854 * t);
-        Y0 += 0.00000006085 * Math.cos(5.30179771397 + 433.190473015 * t);
-        Y0 += 0.00000005516 * Math.cos(0.00146158188 + 631.8205314667 * t);
-        Y0 += 0.00000006414 * Math.cos(1.18221848920 + 624.919432787 * t);
-        Y0 += 0.00000006082 * Math.cos(5.90524903819 + 640.4185511758 * t);
-        Y0 += 0.00000006689 * Math.cos(5.67587790589 + 140.9651774255 * t);
-        Y0 += 0.00000005832 * Math.cos(3.23574880242 + 635.231419868 * t);
-        Y0 += 0.00000005677 * Math.cos(0.22462654591 + 218.4069048687 * t);
-        Y0 += 0.00000005677 * Math.cos(1.52340696709 + 208.1912860073 * t);
-        Y0 += 0.00000005154 * Math.cos(4.72385268655 + 806.725958836 * t);
-        Y0 += 0.00000006235 * Math.cos(2.64890299983 + 616.3214130779 * t);
-        Y0 += 0.00000006572 * Math.cos(0.46207708293 + 1130.2313754934 * t);
-        Y0 += 0.00000005055 * Math.cos(1.48812007680 + 532.8723588323 * t);
-        Y0 += 0.00000006928 * Math.cos(0.39261887909 + 143.9341228421 * t);
-        Y0 += 0.00000006462 * Math.cos(4.11395311508 + 369.9758395734 * t);
-        Y0 += 0.00000006897 * Math.cos(1.11750070334 + 310.7146112543 * t);
-        Y0 += 0.00000005032 * Math.cos(4.78394356647 + 3686.4961146598 * t);
-        Y0 += 0.00000006508 * Math.cos(5.51529639159 + 566.600160455 * t);
-        Y0 += 0.00000005905 * Math.cos(2.11203050847 + 969.6224780949 * t);
-        Y0 += 0.00000006416 * Math.cos(0.42307449455 + 69.3649725959 * t);
-        Y0 += 0.00000005751 * Math.cos(0.14238078678 + 305.0855369618 * t);
-        Y0 += 0.00000006533 * Math.cos(1.41806336298 + 72.3339180125 * t);
-        Y0 += 0.00000005479 * Math.cos(4.10400660456 + 551.031606097 * t);
-        Y0 += 0.00000004865 * Math.cos(3.10986841616 + 124.5028511902 * t);
-        Y0 += 0.00000006101 * Math.cos(5.27130569482 + 55.1378785943 * t);
-        Y0 += 0.00000004873 * Math.cos(3.86714341213 + 760.25553592 * t);
-        Y0 += 0.00000004886 * Math.cos(3.16798230764 + 306.0969289181 * t);
-        Y0 += 0.00000004978 * Math.cos(3.21017890061 + 178.086821107 * t);
-        Y0 += 0.00000005637 * Math.cos(5.42364517987 + 499.895316735 * t);
-        Y0 += 0.00000005105 * Math.cos(3.43791199676 + 88.7962442478 * t);
-        Y0 += 0.00000005419 * Math.cos(6.03456044528 + 320.5846553506 * t);
-        Y0 += 0.00000005591 * Math.cos(0.97716211165 + 285.1117485887 * t);
-        Y0 += 0.00000005035 * Math.cos(5.27515551134 + 658.0565335787 * t);
-        Y0 += 0.00000004931 * Math.cos(5.41266558398 + 771.3012361839 * t);
-        Y0 += 0.00000005385 * Math.cos(0.30815887732 + 1033.3583763983 * t);
-        Y0 += 0.00000004606 * Math.cos(3.90101372950 + 634.2682120215 * t);
-        Y0 += 0.00000005516 * Math.cos(4.29920828193 + 455.1699989582 * t);
-        Y0 += 0.00000006390 * Math.cos(2.82820105159 + 26087.9031415742 * t);
-        Y0 += 0.00000005289 * Math.cos(1.72715966366 + 484.7050148869 * t);
-        Y0 += 0.00000004901 * Math.cos(1.94192487952 + 319.3126309634 * t);
-        Y0 += 0.00000004509 * Math.cos(2.94241810571 + 271.4059194489 * t);
-        Y0 += 0.00000005054 * Math.cos(1.30081494754 + 43.1289704839 * t);
-        Y0 += 0.00000004550 * Math.cos(4.64059617411 + 958.576777831 * t);
-        Y0 += 0.00000005328 * Math.cos(6.23500759865 + 58.1068240109 * t);
-        Y0 += 0.00000004628 * Math.cos(1.03763056101 + 745.277682393 * t);
-        Y0 += 0.00000004492 * Math.cos(0.36984177539 + 732.6951197941 * t);
-        Y0 += 0.00000004464 * Math.cos(0.00963533764 + 636.9765250072 * t);
-        Y0 += 0.00000005558 * Math.cos(3.37188064285 + 493.303034596 * t);
-        Y0 += 0.00000004957 * Math.cos(2.49575219954 + 526.9826521089 * t);
-        Y0 += 0.00000004485 * Math.cos(3.80247388459 + 623.2225117576 * t);
-        Y0 += 0.00000004770 * Math.cos(1.62322752296 + 991.7138786227 * t);
-        Y0 += 0.00000004783 * Math.cos(2.31677561430 + 504.561183181 * t);
-        Y0 += 0.00000004633 * Math.cos(4.41902834379 + 26.826702943 * t);
-        Y0 += 0.00000004812 * Math.cos(3.04861600576 + 327.6982023514 * t);
-        Y0 += 0.00000004454 * Math.cos(6.20355474499 + 198.4813006054 * t);
-        Y0 += 0.00000004511 * Math.cos(3.87445380751 + 707.5653378805 * t);
-        Y0 += 0.00000004451 * Math.cos(1.27013594738 + 113.1270825262 * t);
-        Y0 += 0.00000004350 * Math.cos(4.07716874275 + 840.6662087798 * t);
-        Y0 += 0.00000004327 * Math.cos(5.70195843787 + 2730.2069586892 * t);
-        Y0 += 0.00000005094 * Math.cos(3.04745482293 + 2221.856634597 * t);
-        Y0 += 0.00000005808 * Math.cos(3.24854160326 + 254.3528923826 * t);
-        Y0 += 0.00000004693 * Math.cos(0.58370119736 + 111.4301614968 * t);
-        Y0 += 0.00000004664 * Math.cos(4.20536088537 + 318.8395502114 * t);
-        Y0 += 0.00000004378 * Math.cos(5.82692125515 + 3473.1970192218 * t);
-        Y0 += 0.00000004313 * Math.cos(3.88436316438 + 439.9315130003 * t);
-        Y0 += 0.00000005010 * Math.cos(1.87919232767 + 2324.9494088156 * t);
-        Y0 += 0.00000004613 * Math.cos(0.10623373342 + 774.4826299216 * t);
-        Y0 += 0.00000004450 * Math.cos(2.82885666591 + 629.6023455755 * t);
-        Y0 += 0.00000005233 * Math.cos(4.00529540892 + 952.0963702766 * t);
-        Y0 += 0.00000005260 * Math.cos(2.15622840750 + 115.6229471908 * t);
-        Y0 += 0.00000004321 * Math.cos(2.28638024486 + 201.5196819912 * t);
-        Y0 += 0.00000005321 * Math.cos(1.23695932593 + 597.3590166611 * t);
-        Y0 += 0.00000004111 * Math.cos(3.99363576385 + 561.934294009 * t);
-        Y0 += 0.00000004845 * Math.cos(2.27697782163 + 226.0417167313 * t);
-        Y0 += 0.00000004049 * Math.cos(2.54842532095 + 372.4235201282 * t);
-        Y0 += 0.00000004077 * Math.cos(3.46715688833 + 650.1922270525 * t);
-        Y0 += 0.00000004372 * Math.cos(2.72226535320 + 225.0785088848 * t);
-        Y0 += 0.00000004173 * Math.cos(0.28763595583 + 211.0114735776 * t);
-        Y0 += 0.00000004173 * Math.cos(1.46039755717 + 215.5867172984 * t);
-        Y0 += 0.00000004019 * Math.cos(0.87322430941 + 1141.1340634054 * t);
-        Y0 += 0.00000005075 * Math.cos(3.41425583730 + 317.8763423649 * t);
-        Y0 += 0.00000004060 * Math.cos(1.82766433682 + 228.1168902706 * t);
-        Y0 += 0.00000003992 * Math.cos(6.06359298496 + 668.2084619653 * t);
-        Y0 += 0.00000004165 * Math.cos(3.75880493478 + 6275.9623029906 * t);
-        Y0 += 0.00000004041 * Math.cos(5.36982470528 + 331.2096644892 * t);
-        Y0 += 0.00000005062 * Math.cos(2.71562815851 + 200.5564741447 * t);
-        Y0 += 0.00000005029 * Math.cos(4.81157332925 + 197.257460328 * t);
-        Y0 += 0.00000005457 * Math.cos(0.62936317016 + 481.7360694703 * t);
-        Y0 += 0.00000004874 * Math.cos(5.94947112552 + 604.4725636619 * t);
-        Y0 += 0.00000005129 * Math.cos(3.87485901115 + 207.6218370357 * t);
-        Y0 += 0.00000005129 * Math.cos(4.15635980903 + 218.9763538403 * t);
-        Y0 += 0.00000003855 * Math.cos(3.65565538336 + 425.3743505986 * t);
-        Y0 += 0.00000004705 * Math.cos(3.72248568793 + 424.9012698466 * t);
-        Y0 += 0.00000003880 * Math.cos(0.75632369741 + 541.5398145106 * t);
-        Y0 += 0.00000003860 * Math.cos(3.28596473379 + 512.4254897072 * t);
-        Y0 += 0.00000003855 * Math.cos(2.87345784377 + 427.8220311534 * t);
-        Y0 += 0.00000003992 * Math.cos(4.82104146147 + 248.511369769 * t);
-        Y0 += 0.00000004040 * Math.cos(1.33827734907 + 49.7212526229 * t);
-        Y0 += 0.00000003973 * Math.cos(5.17941188721 + 10206.1719992102 * t);
-        Y0 += 0.00000004561 * Math.cos(6.09725389673 + 491.5579294568 * t);
-        Y0 += 0.00000003903 * Math.cos(0.64285376704 + 378.9039276826 * t);
-        Y0 += 0.00000004917 * Math.cos(5.33496755731 + 769.8167634756 * t);
-        Y0 += 0.00000003770 * Math.cos(3.22875931246 + 214.6716935617 * t);
-        Y0 += 0.00000003770 * Math.cos(4.80245950772 + 211.9264973143 * t);
-        Y0 += 0.00000003732 * Math.cos(1.87406384413 + 48.7580447764 * t);
-        Y0 += 0.00000005021 * Math.cos(4.77663253414 + 108.7218485111 * t);
-        Y0 += 0.00000003851 * Math.cos(3.44837014022 + 305.6068018236 * t);
-        Y0 += 0.00000003728 * Math.cos(5.06145217265 + 407.4757357648 * t);
-        Y0 += 0.00000004008 * Math.cos(3.44168738224 + 1044.4040766622 * t);
-        Y0 += 0.00000003788 * Math.cos(2.56555519144 + 258.5456780766 * t);
-        Y0 += 0.00000003639 * Math.cos(4.65501398335 + 634.4806603426 * t);
-        Y0 += 0.00000004292 * Math.cos(4.23108349990 + 180.1619946463 * t);
-        Y0 += 0.00000003969 * Math.cos(3.99964137261 + 398.2870152247 * t);
-        Y0 += 0.00000004729 * Math.cos(2.75258800170 + 184.0941479094 * t);
-        Y0 += 0.00000004535 * Math.cos(3.22219467599 + 229.340730548 * t);
-        Y0 += 0.00000003649 * Math.cos(1.96746396187 + 444.1242986943 * t);
-        Y0 += 0.00000003517 * Math.cos(4.03852795064 + 3899.7952100978 * t);
-        Y0 += 0.00000003538 * Math.cos(1.31552944944 + 316.4400537664 * t);
-        Y0 += 0.00000004339 * Math.cos(3.48361091763 + 608.877797677 * t);
-        Y0 += 0.00000003613 * Math.cos(1.46903188825 + 519.3960243561 * t);
-        Y0 += 0.00000003506 * Math.cos(4.40454614352 + 316.3436855468 * t);
-        Y0 += 0.00000004193 * Math.cos(2.69898321973 + 775.233389447 * t);
-        Y0 += 0.00000004034 * Math.cos(3.45748098127 + 262.0571402144 * t);
-        Y0 += 0.00000003347 * Math.cos(0.14036401631 + 109.455561694 * t);
-        Y0 += 0.00000004116 * Math.cos(5.24881005284 + 120.5012619579 * t);
-        Y0 += 0.00000003377 * Math.cos(1.41049429770 + 765.8846102125 * t);
-        Y0 += 0.00000003617 * Math.cos(1.09655203793 + 315.4286618101 * t);
-        Y0 += 0.00000003642 * Math.cos(3.59693059890 + 348.635198571 * t);
-        Y0 += 0.00000003282 * Math.cos(6.05512739363 + 211.762233103 * t);
-        Y0 += 0.00000003282 * Math.cos(1.97609142655 + 214.835957773 * t);
-        Y0 += 0.00000003358 * Math.cos(5.03561049516 + 165.6048322446 * t);
-        Y0 += 0.00000003231 * Math.cos(2.63443723507 + 1596.1864422846 * t);
-        Y0 += 0.00000003178 * Math.cos(4.04653368104 + 110.9570807448 * t);
-        Y0 += 0.00000003804 * Math.cos(5.94126091615 + 80.1982245387 * t);
-        Y0 += 0.00000004062 * Math.cos(2.18177184785 + 92.3077063856 * t);
-        Y0 += 0.00000003301 * Math.cos(2.46298796727 + 282.6640680339 * t);
-        Y0 += 0.00000003787 * Math.cos(4.28600120342 + 652.4274592862 * t);
-        Y0 += 0.00000003212 * Math.cos(4.02232029742 + 306.830642101 * t);
-        Y0 += 0.00000003880 * Math.cos(4.82754222667 + 317.3550775031 * t);
-        Y0 += 0.00000003691 * Math.cos(5.19957011681 + 194.2885149114 * t);
-        Y0 += 0.00000003467 * Math.cos(2.75272147827 + 428.2951119054 * t);
-        Y0 += 0.00000003948 * Math.cos(3.17437976353 + 71.8126531507 * t);
-        Y0 += 0.00000003261 * Math.cos(6.15732509312 + 453.424893819 * t);
-        Y0 += 0.00000004132 * Math.cos(0.15196778100 + 434.2330027386 * t);
-        Y0 += 0.00000003783 * Math.cos(3.16013288070 + 77.2292791221 * t);
-        Y0 += 0.00000004289 * Math.cos(0.56065340003 + 187.6962327724 * t);
-        Y0 += 0.00000003828 * Math.cos(6.10468598936 + 114.9416236346 * t);
-        Y0 += 0.00000003142 * Math.cos(3.74647337221 + 130.4407420234 * t);
-        Y0 += 0.00000003054 * Math.cos(4.31541167047 + 699.7010313543 * t);
-        Y0 += 0.00000003219 * Math.cos(4.40669258863 + 657.1627617014 * t);
-        Y0 += 0.00000003527 * Math.cos(3.59075624103 + 495.9631634719 * t);
-        Y0 += 0.00000003310 * Math.cos(0.53771489354 + 2516.9078632512 * t);
-        Y0 += 0.00000003471 * Math.cos(0.95985137600 + 1119.1856752295 * t);
-        Y0 += 0.00000004106 * Math.cos(2.03430708190 + 685.4739373527 * t);
-        Y0 += 0.00000003032 * Math.cos(3.52225726785 + 93.531546663 * t);
-        Y0 += 0.00000003788 * Math.cos(0.41613967902 + 672.1406152284 * t);
-        Y0 += 0.00000003317 * Math.cos(1.05508535425 + 721.6494195302 * t);
-        Y0 += 0.00000003312 * Math.cos(6.04970700966 + 691.1030116452 * t);
-        Y0 += 0.00000002970 * Math.cos(4.62780237780 + 4002.8879843164 * t);
-        Y0 += 0.00000003020 * Math.cos(5.03890376384 + 151.260118164 * t);
-        Y0 += 0.00000003500 * Math.cos(2.81349072076 + 789.4604834486 * t);
-        Y0 += 0.00000002994 * Math.cos(4.38745012498 + 91.7864415238 * t);
-        Y0 += 0.00000003894 * Math.cos(1.24532219442 + 268.4369740323 * t);
-        Y0 += 0.00000003953 * Math.cos(6.16022797347 + 101.8689339412 * t);
-        Y0 += 0.00000003539 * Math.cos(5.71127070378 + 232.942815411 * t);
-        Y0 += 0.00000003866 * Math.cos(5.44364081086 + 37.8724032069 * t);
-        Y0 += 0.00000002998 * Math.cos(2.95919686933 + 328.2407190726 * t);
-        Y0 += 0.00000003033 * Math.cos(1.45458632603 + 188.0263011725 * t);
-        Y0 += 0.00000003405 * Math.cos(3.08243677773 + 167.0893049529 * t);
-        Y0 += 0.00000002917 * Math.cos(1.86331950934 + 357.2332182801 * t);
-        Y0 += 0.00000002890 * Math.cos(4.23477281091 + 92.7978334801 * t);
-        Y0 += 0.00000003086 * Math.cos(5.84396093041 + 443.8636662634 * t);
-        Y0 += 0.00000003008 * Math.cos(2.53117554530 + 434.4624974022 * t);
-        Y0 += 0.00000003572 * Math.cos(6.08350760138 + 851.7119090437 * t);
-        Y0 += 0.00000002900 * Math.cos(1.19512524260 + 842.9014410135 * t);
-        Y0 += 0.00000002804 * Math.cos(2.83113208076 + 425.1619022775 * t);
-        Y0 += 0.00000003277 * Math.cos(2.83164917192 + 232.3096759646 * t);
-        Y0 += 0.00000002758 * Math.cos(3.67825788850 + 103.0445901088 * t);
-        Y0 += 0.00000003541 * Math.cos(0.53353274088 + 239.3226492289 * t);
-        Y0 += 0.00000002882 * Math.cos(3.07881226842 + 123.5396433437 * t);
-        Y0 += 0.00000002804 * Math.cos(3.69798114637 + 428.0344794745 * t);
-        Y0 += 0.00000002728 * Math.cos(1.13605812584 + 354.2642728635 * t);
-        Y0 += 0.00000002986 * Math.cos(0.01727868701 + 42.3258213318 * t);
-        Y0 += 0.00000003750 * Math.cos(3.91661897655 + 145.4185955504 * t);
-        Y0 += 0.00000003787 * Math.cos(5.72680783760 + 1056.2005364515 * t);
-        Y0 += 0.00000002715 * Math.cos(1.40747373075 + 620.253566341 * t);
-        Y0 += 0.00000003737 * Math.cos(0.26727034607 + 25.8634950965 * t);
-        Y0 += 0.00000002707 * Math.cos(0.11590621754 + 310.9752436852 * t);
-        Y0 += 0.00000003259 * Math.cos(4.73993803463 + 3796.7024358792 * t);
-        Y0 += 0.00000002699 * Math.cos(4.09770361223 + 141.6988906084 * t);
-        Y0 += 0.00000002846 * Math.cos(0.59348034929 + 103.1409583284 * t);
-        Y0 += 0.00000002693 * Math.cos(4.35806644152 + 432.9609783514 * t);
-        Y0 += 0.00000003752 * Math.cos(1.31275213009 + 187.2755416471 * t);
-        Y0 += 0.00000003408 * Math.cos(4.57767638767 + 498.9321088885 * t);
-        Y0 += 0.00000003270 * Math.cos(1.13501059030 + 924.0458270562 * t);
-        Y0 += 0.00000002922 * Math.cos(3.43339315332 + 335.1418177523 * t);
-        Y0 += 0.00000003462 * Math.cos(4.87665384758 + 182.5402392319 * t);
-        Y0 += 0.00000003056 * Math.cos(3.84258397222 + 179.5712938153 * t);
-        Y0 += 0.00000003566 * Math.cos(1.22446128806 + 238.9019581036 * t);
-        Y0 += 0.00000003321 * Math.cos(0.62461208452 + 122.7364941916 * t);
-        Y0 += 0.00000002751 * Math.cos(2.00343492050 + 322.0209439491 * t);
-        Y0 += 0.00000002606 * Math.cos(0.14368418549 + 1049.0869894507 * t);
-        Y0 += 0.00000002722 * Math.cos(0.33833300117 + 644.090072008 * t);
-        Y0 += 0.00000002655 * Math.cos(2.71424424324 + 125.1841747464 * t);
-        Y0 += 0.00000002840 * Math.cos(5.63787661296 + 336.8387387817 * t);
-        Y0 += 0.00000002833 * Math.cos(4.49076222674 + 782.3469364478 * t);
-        Y0 += 0.00000002712 * Math.cos(3.26766861519 + 631.2992666049 * t);
-        Y0 += 0.00000002667 * Math.cos(2.34899182217 + 1080.7225711916 * t);
-        Y0 += 0.00000002603 * Math.cos(3.14892751264 + 508.4933364441 * t);
-        Y0 += 0.00000002559 * Math.cos(3.79368088293 + 639.1465267886 * t);
-        Y0 += 0.00000003194 * Math.cos(0.26003120905 + 913.9633346388 * t);
-        Y0 += 0.00000002555 * Math.cos(5.91141702766 + 625.8826406335 * t);
-        Y0 += 0.00000002581 * Math.cos(1.05939099951 + 158.9643659958 * t);
-        Y0 += 0.00000002589 * Math.cos(1.16149191173 + 71.6002048296 * t);
-        Y0 += 0.00000003373 * Math.cos(6.22510987996 + 102.1295663721 * t);
-        Y0 += 0.00000002548 * Math.cos(1.66256671387 + 95.2284676924 * t);
-        Y0 += 0.00000003193 * Math.cos(2.66788003455 + 2538.2485042536 * t);
-        Y0 += 0.00000002686 * Math.cos(4.87164344891 + 642.8180476208 * t);
-        Y0 += 0.00000002536 * Math.cos(3.93316993605 + 64.9597385808 * t);
-        Y0 += 0.00000002496 * Math.cos(0.40808534064 + 297.6419215609 * t);
-        Y0 += 0.00000003165 * Math.cos(4.27963434890 + 1063.3140834523 * t);
-        Y0 += 0.00000002660 * Math.cos(1.58245860025 + 443.2729654324 * t);
-        Y0 += 0.00000002495 * Math.cos(5.48966738548 + 2627.1141844706 * t);
-        Y0 += 0.00000002429 * Math.cos(2.83521812027 + 235.933012687 * t);
-        Y0 += 0.00000002396 * Math.cos(3.78771740781 + 173.6815870919 * t);
-        Y0 += 0.00000002649 * Math.cos(3.41312329124 + 244.0579516441 * t);
-        Y0 += 0.00000002387 * Math.cos(4.23055061931 + 619.2903584945 * t);
-        Y0 += 0.00000002373 * Math.cos(5.47710357456 + 3046.5988283458 * t);
-        Y0 += 0.00000002556 * Math.cos(1.66067410548 + 3377.217792004 * t);
-        Y0 += 0.00000002655 * Math.cos(3.73582825216 + 440.6128365565 * t);
-        Y0 += 0.00000002369 * Math.cos(5.55705197269 + 205.9731001161 * t);
-        Y0 += 0.00000002369 * Math.cos(5.61575950108 + 220.6250907599 * t);
-        Y0 += 0.00000002774 * Math.cos(2.02597665846 + 168.0525127994 * t);
-        Y0 += 0.00000002689 * Math.cos(0.10721977807 + 12566.1516999828 * t);
-        Y0 += 0.00000003235 * Math.cos(2.58049219033 + 338.4832701844 * t);
-        Y0 += 0.00000002329 * Math.cos(4.11799083739 + 398.1440028728 * t);
-        Y0 += 0.00000002905 * Math.cos(5.89022035873 + 35.1640902212 * t);
-        Y0 += 0.00000002701 * Math.cos(3.73947164540 + 300.6108669775 * t);
-        Y0 += 0.00000003125 * Math.cos(3.79844466951 + 531.978586955 * t);
-        Y0 += 0.00000002323 * Math.cos(3.05034654081 + 535.9107402181 * t);
-        Y0 += 0.00000002895 * Math.cos(5.50164208553 + 945.2434557067 * t);
-        Y0 += 0.00000002373 * Math.cos(5.46855507643 + 337.8019466282 * t);
-        Y0 += 0.00000002726 * Math.cos(1.94958732685 + 953.1077622329 * t);
-        Y0 += 0.00000002952 * Math.cos(0.74298822983 + 645.5263606065 * t);
-        Y0 += 0.00000003101 * Math.cos(4.07921701551 + 104.0559820651 * t);
-        Y0 += 0.00000002253 * Math.cos(0.65614704540 + 310.1720945331 * t);
-        Y0 += 0.00000002325 * Math.cos(5.58522441833 + 3789.5888888784 * t);
-        Y0 += 0.00000002533 * Math.cos(0.42337625047 + 90.5626012464 * t);
-        Y0 += 0.00000002313 * Math.cos(4.74432612488 + 469.8872200543 * t);
-        Y0 += 0.00000002906 * Math.cos(5.36614631776 + 550.1378342197 * t);
-        Y0 += 0.00000002203 * Math.cos(4.74111725788 + 281.1795953256 * t);
-        Y0 += 0.00000002305 * Math.cos(1.27906331822 + 768.8535556291 * t);
-        Y0 += 0.00000002215 * Math.cos(1.98003879892 + 2641.3412784722 * t);
-        Y0 += 0.00000002811 * Math.cos(6.10219051624 + 641.3817590223 * t);
-        Y0 += 0.00000002247 * Math.cos(1.30388296472 + 315.1680293792 * t);
-        Y0 += 0.00000002184 * Math.cos(0.64755103697 + 1457.525933062 * t);
-        Y0 += 0.00000002591 * Math.cos(5.35033213699 + 170.1701249541 * t);
-        Y0 += 0.00000002434 * Math.cos(5.26566667886 + 183.2428146475 * t);
-        Y0 += 0.00000002177 * Math.cos(4.17779611513 + 67.8804998876 * t);
-        Y0 += 0.00000002159 * Math.cos(2.78579770414 + 347.4113582936 * t);
-        Y0 += 0.00000002304 * Math.cos(4.39421156840 + 49.5088043018 * t);
-        Y0 += 0.00000002466 * Math.cos(4.19474542518 + 247.0268970607 * t);
-        Y0 += 0.00000002386 * Math.cos(2.80178234746 + 430.7427924602 * t);
-        Y0 += 0.00000002610 * Math.cos(4.77257985354 + 1193.9672737968 * t);
-        Y0 += 0.00000002641 * Math.cos(3.35196821148 + 739.0579072695 * t);
-        Y0 += 0.00000002700 * Math.cos(2.12282494441 + 927.8349679674 * t);
-        Y0 += 0.00000002379 * Math.cos(0.49192182148 + 176.3899000776 * t);
-        Y0 += 0.00000002808 * Math.cos(2.30330319489 + 837.6972633632 * t);
-        Y0 += 0.00000002250 * Math.cos(3.80713989523 + 366.0436863103 * t);
-        Y0 += 0.00000002115 * Math.cos(2.49144340867 + 476.3194434989 * t);
-        Y0 += 0.00000002334 * Math.cos(3.56275093608 + 60.5545045657 * t);
-        Y0 += 0.00000002069 * Math.cos(3.42638286804 + 256.4280659219 * t);
-        Y0 += 0.00000002094 * Math.cos(2.69778083768 + 883.7951792637 * t);
-        Y0 += 0.00000002634 * Math.cos(4.98366789173 + 103.3534066495 * t);
-        Y0 += 0.00000002113 * Math.cos(3.71735542360 + 90.8232336773 * t);
-        Y0 += 0.00000002403 * Math.cos(0.69911286193 + 452.2010535416 * t);
-        Y0 += 0.00000002200 * Math.cos(4.93151161441 + 6681.2248533996 * t);
-        Y0 += 0.00000002564 * Math.cos(1.72919712902 + 427.4919627533 * t);
-        Y0 += 0.00000002111 * Math.cos(3.67340327220 + 422.4535892918 * t);
-        Y0 += 0.00000002309 * Math.cos(1.52889857656 + 154.979823106 * t);
-        Y0 += 0.00000002101 * Math.cos(3.17100143341 + 418.7338843498 * t);
-        Y0 += 0.00000002339 * Math.cos(3.19581014018 + 475.3562356524 * t);
-        Y0 += 0.00000002810 * Math.cos(4.44919998552 + 1041.2226829245 * t);
-        Y0 += 0.00000002006 * Math.cos(1.89437502864 + 528.9402055692 * t);
-        Y0 += 0.00000001991 * Math.cos(0.07570870145 + 1097.0942747017 * t);
-        Y0 += 0.00000002346 * Math.cos(4.39881551809 + 447.2051186955 * t);
-        Y0 += 0.00000002489 * Math.cos(1.26387069472 + 2487.4160449478 * t);
-        Y0 += 0.00000002265 * Math.cos(5.41116346117 + 827.9235874865 * t);
-        Y0 += 0.00000001969 * Math.cos(5.59125231989 + 530.44172462 * t);
-        Y0 += 0.00000002041 * Math.cos(5.11578854043 + 409.1897031367 * t);
-        Y0 += 0.00000002467 * Math.cos(5.87379769512 + 429.5671362926 * t);
-        Y0 += 0.00000001995 * Math.cos(4.07142764766 + 409.3327154886 * t);
-        Y0 += 0.00000002007 * Math.cos(0.06206259537 + 614.6244920485 * t);
-        Y0 += 0.00000002459 * Math.cos(2.83207805977 + 485.8806710545 * t);
-        Y0 += 0.00000001933 * Math.cos(2.38140044906 + 1062.5633239269 * t);
-        Y0 += 0.00000001949 * Math.cos(2.29014828042 + 1171.875873269 * t);
-        Y0 += 0.00000001873 * Math.cos(3.82628269559 + 344.8460576598 * t);
-        Y0 += 0.00000002386 * Math.cos(5.73054918768 + 25234.70675982219 * t);
-        Y0 += 0.00000001913 * Math.cos(1.11318492193 + 835.7878940127 * t);
-        Y0 += 0.00000002201 * Math.cos(2.10310925537 + 784.0438574772 * t);
-        Y0 += 0.00000002159 * Math.cos(5.22897893375 + 666.723989257 * t);
-        Y0 += 0.00000002042 * Math.cos(4.90569999816 + 102.5715093568 * t);
-        Y0 += 0.00000002185 * Math.cos(2.29641273315 + 109.9456887885 * t);
-        Y0 += 0.00000001859 * Math.cos(2.43455134316 + 469.7271613599 * t);
-        Y0 += 0.00000002564 * Math.cos(4.79991609811 + 425.7044189987 * t);
-        Y0 += 0.00000001965 * Math.cos(4.29620967516 + 40.1600250673 * t);
-        Y0 += 0.00000001953 * Math.cos(2.77684772272 + 115.8353955119 * t);
-        Y0 += 0.00000002542 * Math.cos(4.99291303185 + 354.7855377253 * t);
-        Y0 += 0.00000002293 * Math.cos(3.74833102224 + 180.8433182025 * t);
-        Y0 += 0.00000001833 * Math.cos(0.68864623997 + 267.6338248802 * t);
-        Y0 += 0.00000002098 * Math.cos(4.80007899391 + 252.9166037841 * t);
-        Y0 += 0.00000002063 * Math.cos(4.42290544540 + 177.1236132605 * t);
-        Y0 += 0.00000002289 * Math.cos(3.53527647248 + 482.2573343321 * t);
-        Y0 += 0.00000002360 * Math.cos(3.90231570903 + 1108.1399749656 * t);
-        Y0 += 0.00000001804 * Math.cos(5.24742259566 + 3362.9906980024 * t);
-        Y0 += 0.00000001844 * Math.cos(0.00789242156 + 2435.155730035 * t);
-        Y0 += 0.00000001982 * Math.cos(5.35608124487 + 103.6140390804 * t);
-        Y0 += 0.00000001908 * Math.cos(5.22238265370 + 466.7582159433 * t);
-        Y0 += 0.00000002016 * Math.cos(2.76555324862 + 243.3553762285 * t);
-        Y0 += 0.00000001848 * Math.cos(4.20159262156 + 633.7469471597 * t);
-        Y0 += 0.00000001781 * Math.cos(4.91158923453 + 205.9249160063 * t);
-        Y0 += 0.00000001781 * Math.cos(6.26122223924 + 220.6732748697 * t);
-        Y0 += 0.00000001887 * Math.cos(6.15706255153 + 1083.7609525774 * t);
-        Y0 += 0.00000002271 * Math.cos(3.52462508383 + 192.8040422031 * t);
-        Y0 += 0.00000002271 * Math.cos(4.50659373635 + 233.7941486729 * t);
-        Y0 += 0.00000002089 * Math.cos(2.74677830240 + 105.5404547734 * t);
-        Y0 += 0.00000002115 * Math.cos(3.37920796693 + 670.916774951 * t);
-        Y0 += 0.00000002035 * Math.cos(4.41826161524 + 1357.6145525811 * t);
-        Y0 += 0.00000002371 * Math.cos(0.74039668492 + 799.6124118352 * t);
-        Y0 += 0.00000001774 * Math.cos(3.33747140433 + 206.4461808681 * t);
-        Y0 += 0.00000001774 * Math.cos(1.55215476226 + 220.1520100079 * t);
-        Y0 += 0.00000001959 * Math.cos(5.96363240537 + 1246.6574718363 * t);
-        Y0 += 0.00000002018 * Math.cos(1.23143921903 + 250.2082907984 * t);
-        Y0 += 0.00000002294 * Math.cos(4.61597338213 + 912.4788619305 * t);
-        Y0 += 0.00000001775 * Math.cos(0.81870406810 + 198.1087935899 * t);
-        Y0 += 0.00000001775 * Math.cos(4.07092209849 + 228.4893972861 * t);
-        Y0 += 0.00000002098 * Math.cos(4.32225540550 + 754.8389099486 * t);
-        Y0 += 0.00000001923 * Math.cos(4.76543466567 + 533.8837507886 * t);
-        Y0 += 0.00000001762 * Math.cos(4.83065781118 + 551.1010420662 * t);
-        Y0 += 0.00000002337 * Math.cos(6.02524868807 + 635.70450062 * t);
-        Y0 += 0.00000001706 * Math.cos(0.55353279572 + 749.2098356561 * t);
-        Y0 += 0.00000001694 * Math.cos(6.24017209111 + 518.3846323998 * t);
-        Y0 += 0.00000001784 * Math.cos(3.41130277039 + 346.1875180162 * t);
-        Y0 += 0.00000001912 * Math.cos(5.83154317920 + 133.1008708993 * t);
-        Y0 += 0.00000001839 * Math.cos(6.01872357391 + 589.4947101349 * t);
-        Y0 += 0.00000001703 * Math.cos(2.29299187318 + 146.3818033969 * t);
-        Y0 += 0.00000001687 * Math.cos(0.96512635264 + 10.0343083076 * t);
-        Y0 += 0.00000002084 * Math.cos(3.81612644973 + 5216.5803728014 * t);
-        Y0 += 0.00000001707 * Math.cos(5.43507761109 + 1144.3154571431 * t);
-        Y0 += 0.00000001855 * Math.cos(5.99205151484 + 301.4140161296 * t);
-        Y0 += 0.00000002070 * Math.cos(0.48705338683 + 45.2465826386 * t);
-        Y0 += 0.00000001655 * Math.cos(1.00249438802 + 104.789695248 * t);
-        Y0 += 0.00000001838 * Math.cos(1.94927537660 + 2854.6403739102 * t);
-        Y0 += 0.00000001836 * Math.cos(1.35614614488 + 644.56315276 * t);
-        Y0 += 0.00000002080 * Math.cos(6.16951060410 + 587.2070882745 * t);
-        Y0 += 0.00000001689 * Math.cos(3.06052557709 + 275.338072712 * t);
-        Y0 += 0.00000002104 * Math.cos(5.53965159347 + 1372.5924061081 * t);
-        Y0 += 0.00000001649 * Math.cos(3.76361921057 + 4216.1870797544 * t);
-        Y0 += 0.00000001822 * Math.cos(1.36816817971 + 118.0706277456 * t);
-        Y0 += 0.00000001720 * Math.cos(6.04159111363 + 6290.1893969922 * t);
-        Y0 += 0.00000002084 * Math.cos(1.19654093349 + 414.8187774292 * t);
-        Y0 += 0.00000001658 * Math.cos(0.45133729472 + 624.3981679252 * t);
-        Y0 += 0.00000002027 * Math.cos(5.52624747052 + 1699.2792165032 * t);
-        Y0 += 0.00000001707 * Math.cos(0.48133465395 + 98.3574718034 * t);
-        Y0 += 0.00000001742 * Math.cos(5.09299481446 + 349.3689117539 * t);
-        Y0 += 0.00000001749 * Math.cos(2.17421151845 + 25455.119402261 * t);
-        Y0 += 0.00000001782 * Math.cos(3.25289876760 + 9772.4602613334 * t);
-        Y0 += 0.00000001684 * Math.cos(1.20229401820 + 10220.3990932118 * t);
-        Y0 += 0.00000001942 * Math.cos(5.33749253343 + 246.4361962297 * t);
-        Y0 += 0.00000001839 * Math.cos(0.63974984193 + 524.0137066923 * t);
-        Y0 += 0.00000001666 * Math.cos(2.21549340552 + 700.4517908797 * t);
-        Y0 += 0.00000001943 * Math.cos(5.24690810849 + 9146.790069021 * t);
-        Y0 += 0.00000001802 * Math.cos(3.88396641267 + 2707.8286873866 * t);
-        Y0 += 0.00000001696 * Math.cos(3.74962508253 + 134.1122628556 * t);
-        Y0 += 0.00000001560 * Math.cos(1.35555739940 + 413.8555695827 * t);
-        Y0 += 0.00000001800 * Math.cos(1.13754295844 + 1389.1071219701 * t);
-        Y0 += 0.00000001866 * Math.cos(5.16894152281 + 58.319272332 * t);
-        Y0 += 0.00000001569 * Math.cos(2.96590949044 + 122.4758617607 * t);
-        Y0 += 0.00000001878 * Math.cos(0.56034818540 + 134.0640787458 * t);
-        Y0 += 0.00000001573 * Math.cos(6.00727125972 + 2751.5475996916 * t);
-        Y0 += 0.00000001715 * Math.cos(3.48124521150 + 709.0498105888 * t);
-        Y0 += 0.00000001549 * Math.cos(3.00079525151 + 735.828329422 * t);
-        Y0 += 0.00000001584 * Math.cos(3.71413202518 + 3767.2106175758 * t);
-        Y0 += 0.00000001617 * Math.cos(0.82146396585 + 83.3796182764 * t);
-        Y0 += 0.00000001522 * Math.cos(3.95543295975 + 406.1513217509 * t);
-        Y0 += 0.00000001774 * Math.cos(2.05577451783 + 988.532484885 * t);
-        Y0 += 0.00000001668 * Math.cos(0.15464960467 + 318.679491517 * t);
-        Y0 += 0.00000001505 * Math.cos(2.43278632462 + 447.0450600011 * t);
-        Y0 += 0.00000001851 * Math.cos(1.32257916724 + 586.3133163972 * t);
-        Y0 += 0.00000001699 * Math.cos(1.83589151289 + 5849.3641121146 * t);
-        Y0 += 0.00000001513 * Math.cos(1.58063538394 + 694.0719570618 * t);
-        Y0 += 0.00000001652 * Math.cos(2.29417006197 + 1364.7280995819 * t);
-        Y0 += 0.00000001681 * Math.cos(3.27233741787 + 9779.5738083342 * t);
-        Y0 += 0.00000001761 * Math.cos(4.54815343835 + 59.2824801785 * t);
-        Y0 += 0.00000001512 * Math.cos(5.62855091662 + 1748.0372612796 * t);
-        Y0 += 0.00000001830 * Math.cos(5.34715739631 + 259.5088859231 * t);
-        Y0 += 0.00000001955 * Math.cos(1.14034312132 + 913.7508863177 * t);
-        Y0 += 0.00000001700 * Math.cos(2.52690589264 + 1091.6252591036 * t);
-        Y0 += 0.00000001492 * Math.cos(3.87041262067 + 878.3261636656 * t);
-        Y0 += 0.00000001813 * Math.cos(4.74934995230 + 284.8993002676 * t);
-        Y0 += 0.00000001477 * Math.cos(2.97738624058 + 105.380396079 * t);
-        Y0 += 0.00000001498 * Math.cos(0.41523796774 + 174.6929790482 * t);
-        Y0 += 0.00000001557 * Math.cos(4.72868742196 + 5753.3848848968 * t);
-        Y0 += 0.00000001661 * Math.cos(0.36710516357 + 1012.9115072732 * t);
-        Y0 += 0.00000001458 * Math.cos(0.77581736648 + 632.831923423 * t);
-        Y0 += 0.00000001835 * Math.cos(4.28335523752 + 245.7548726735 * t);
-        Y0 += 0.00000001579 * Math.cos(2.18056769700 + 680.0573113813 * t);
-        Y0 += 0.00000001563 * Math.cos(3.16063918535 + 736.8397213783 * t);
-        Y0 += 0.00000001450 * Math.cos(6.03894003020 + 735.9246976416 * t);
-        Y0 += 0.00000001763 * Math.cos(3.79907071140 + 383.3091616977 * t);
-        Y0 += 0.00000001651 * Math.cos(1.38404939118 + 1038.0412891868 * t);
-        Y0 += 0.00000001644 * Math.cos(3.60831498439 + 249.4745776155 * t);
-        Y0 += 0.00000001496 * Math.cos(4.79857033083 + 77623.81213840858 * t);
-        Y0 += 0.00000001555 * Math.cos(1.75214206831 + 679.2541622292 * t);
-        Y0 += 0.00000001432 * Math.cos(4.37859929602 + 4319.279853973 * t);
-        Y0 += 0.00000001890 * Math.cos(2.07781526909 + 764.4001375042 * t);
-        Y0 += 0.00000001529 * Math.cos(3.49230150581 + 1379.7059531089 * t);
-        Y0 += 0.00000001537 * Math.cos(2.30815561940 + 321.0577361026 * t);
-        Y0 += 0.00000001683 * Math.cos(2.44398546913 + 6503.4884924302 * t);
-        Y0 += 0.00000001413 * Math.cos(5.19282461963 + 322.6116447801 * t);
-        Y0 += 0.00000001473 * Math.cos(5.41554956833 + 1452.8430202735 * t);
-        Y0 += 0.00000001848 * Math.cos(0.98286127487 + 419.6970921963 * t);
-        Y0 += 0.00000001615 * Math.cos(3.28706588176 + 763.4369296577 * t);
-        Y0 += 0.00000001495 * Math.cos(0.29095019343 + 155.7829722581 * t);
-        Y0 += 0.00000001394 * Math.cos(3.59008434668 + 632.0329797878 * t);
-        Y0 += 0.00000001588 * Math.cos(3.92824002664 + 148.3393568572 * t);
-        Y0 += 0.00000001416 * Math.cos(1.27557908922 + 840.4537604587 * t);
-        Y0 += 0.00000001590 * Math.cos(5.88266197281 + 2648.454825473 * t);
-        Y0 += 0.00000001377 * Math.cos(1.49343226956 + 1354.4331588434 * t);
-        Y0 += 0.00000001512 * Math.cos(1.46479222367 + 5746.271337896 * t);
-        Y0 += 0.00000001512 * Math.cos(2.71827936357 + 428.2427222787 * t);
-        Y0 += 0.00000001373 * Math.cos(5.14213868043 + 118.8737768977 * t);
-        Y0 += 0.00000001432 * Math.cos(0.34980510915 + 1166.4068576709 * t);
-        Y0 += 0.00000001361 * Math.cos(0.09412736777 + 331.3697231836 * t);
-        Y0 += 0.00000001891 * Math.cos(3.43728723911 + 1165.3954657146 * t);
-        Y0 += 0.00000001501 * Math.cos(2.87450546367 + 9676.4810341156 * t);
-        Y0 += 0.00000001759 * Math.cos(3.01502964755 + 200.0352092829 * t);
-        Y0 += 0.00000001759 * Math.cos(1.87459651904 + 226.5629815931 * t);
-        Y0 += 0.00000001599 * Math.cos(3.86769166408 + 10433.6981886498 * t);
-        Y0 += 0.00000001401 * Math.cos(4.97239262675 + 1950.2906564537 * t);
-        Y0 += 0.00000001637 * Math.cos(1.37711471652 + 451.7279727896 * t);
-        Y0 += 0.00000001339 * Math.cos(0.57976012942 + 1159.2933106701 * t);
-        Y0 += 0.00000001375 * Math.cos(1.60430927308 + 1670.82502850 * t);
-        Y0 += 0.00000001377 * Math.cos(2.45454466359 + 183.5516311882 * t);
-        Y0 += 0.00000001377 * Math.cos(5.57667415659 + 243.0465596878 * t);
-        Y0 += 0.00000001464 * Math.cos(3.85374204577 + 263.0203480609 * t);
-        Y0 += 0.00000001337 * Math.cos(6.03006105607 + 6.3627874754 * t);
-        Y0 += 0.00000001647 * Math.cos(2.07108808598 + 109.3125493421 * t);
-        Y0 += 0.00000001455 * Math.cos(0.74361321398 + 25661.3049506982 * t);
-        Y0 += 0.00000001312 * Math.cos(4.56459920331 + 311.7260032106 * t);
-        Y0 += 0.00000001500 * Math.cos(1.53242411242 + 2313.9037085517 * t);
-        Y0 += 0.00000001715 * Math.cos(4.51218397068 + 79.1868325824 * t);
-        Y0 += 0.00000001381 * Math.cos(5.24179656775 + 718.6110381444 * t);
-        Y0 += 0.00000001758 * Math.cos(1.96055689832 + 452.4616859725 * t);
-        Y0 += 0.00000001687 * Math.cos(3.24710382106 + 1151.4290041439 * t);
-        Y0 += 0.00000001765 * Math.cos(5.03429736111 + 757.8078553652 * t);
-        Y0 += 0.00000001660 * Math.cos(2.14686249511 + 661.0949149645 * t);
-        Y0 += 0.00000001464 * Math.cos(2.84230067135 + 359.893347156 * t);
-        Y0 += 0.00000001374 * Math.cos(5.32410055956 + 535.3200393871 * t);
-        Y0 += 0.00000001342 * Math.cos(1.84663745229 + 384.2723695442 * t);
-        Y0 += 0.00000001663 * Math.cos(0.24097601233 + 102.980899634 * t);
-        Y0 += 0.00000001297 * Math.cos(3.46029204668 + 4532.578949411 * t);
-        Y0 += 0.00000001451 * Math.cos(5.66628703851 + 316.6525020875 * t);
-        Y0 += 0.00000001270 * Math.cos(2.95469445132 + 373.0142209592 * t);
-        Y0 += 0.00000001460 * Math.cos(1.42235125301 + 1020.025054274 * t);
-        Y0 += 0.00000001406 * Math.cos(0.84231326933 + 560.7104537316 * t);
-        Y0 += 0.00000001459 * Math.cos(4.62047341220 + 9352.9756174582 * t);
-        Y0 += 0.00000001414 * Math.cos(3.87043606216 + 632.7355552034 * t);
-        Y0 += 0.00000001665 * Math.cos(5.34226157718 + 163.5778428151 * t);
-        Y0 += 0.00000001394 * Math.cos(3.70666435538 + 1008.9793540101 * t);
-        Y0 += 0.00000001372 * Math.cos(5.09085657141 + 1182.9215735329 * t);
-        Y0 += 0.00000001379 * Math.cos(5.79481326272 + 315.8706047948 * t);
-        Y0 += 0.00000001321 * Math.cos(0.36554718986 + 271.61836777 * t);
-        Y0 += 0.00000001564 * Math.cos(6.16373253849 + 3391.4448860056 * t);
-        Y0 += 0.00000001475 * Math.cos(5.61366600619 + 5643.1785636774 * t);
-        Y0 += 0.00000001471 * Math.cos(0.61030032816 + 2693.601593385 * t);
-        Y0 += 0.00000001272 * Math.cos(4.55502633824 + 526.7702037878 * t);
-        Y0 += 0.00000001580 * Math.cos(3.30444982133 + 1477.5945496772 * t);
-        Y0 += 0.00000001597 * Math.cos(1.08229581813 + 303.8616966844 * t);
-        Y0 += 0.00000001295 * Math.cos(2.80308750215 + 5179.5897827258 * t);
-        Y0 += 0.00000001282 * Math.cos(2.45390821025 + 1048.3362299253 * t);
-        Y0 += 0.00000001623 * Math.cos(2.82702522323 + 2914.0142358238 * t);
-        Y0 += 0.00000001210 * Math.cos(3.99773632883 + 532.1386456494 * t);
-        Y0 += 0.00000001267 * Math.cos(3.75487767558 + 114.8721876654 * t);
-        Y0 += 0.00000001279 * Math.cos(5.34028961972 + 208.8938614229 * t);
-        Y0 += 0.00000001279 * Math.cos(5.83252185405 + 217.7043294531 * t);
-        Y0 += 0.00000001208 * Math.cos(6.03949546814 + 115.8835796217 * t);
-        Y0 += 0.00000001406 * Math.cos(3.94363693881 + 959.2099172774 * t);
-        Y0 += 0.00000001426 * Math.cos(3.54668411045 + 823.9914342234 * t);
-        Y0 += 0.00000001376 * Math.cos(2.38955780400 + 973.554631358 * t);
-        Y0 += 0.00000001435 * Math.cos(5.24207563071 + 1147.4968508808 * t);
-        Y0 += 0.00000001183 * Math.cos(4.17236140424 + 415.2918581812 * t);
-        Y0 += 0.00000001307 * Math.cos(5.09096433091 + 962.5089310941 * t);
-        Y0 += 0.00000001460 * Math.cos(1.81062368165 + 1244.226837624 * t);
-        Y0 += 0.00000001332 * Math.cos(0.68009283969 + 896.3253522359 * t);
-        Y0 += 0.00000001408 * Math.cos(1.48916422175 + 1560.6187072806 * t);
-        Y0 += 0.00000001354 * Math.cos(2.19008098418 + 529.8028396792 * t);
-        Y0 += 0.00000001236 * Math.cos(5.87828881803 + 539.0921339558 * t);
-        Y0 += 0.00000001187 * Math.cos(4.77583628852 + 1261.6353253633 * t);
-        Y0 += 0.00000001569 * Math.cos(4.96637455080 + 1178.9894202698 * t);
-        Y0 += 0.00000001168 * Math.cos(1.96403978263 + 832.5894539325 * t);
-        Y0 += 0.00000001351 * Math.cos(5.90695241311 + 795.6802585721 * t);
-        Y0 += 0.00000001188 * Math.cos(5.75060601791 + 1394.7361962626 * t);
-        Y0 += 0.00000001182 * Math.cos(6.04710142267 + 3149.6916025644 * t);
-        Y0 += 0.00000001278 * Math.cos(3.39065490978 + 851.4994607226 * t);
-        Y0 += 0.00000001176 * Math.cos(1.33279737043 + 251.9052118278 * t);
-        Y0 += 0.00000001150 * Math.cos(5.05374956343 + 4105.980758535 * t);
-        Y0 += 0.00000001245 * Math.cos(3.08432272519 + 293.4973199767 * t);
-        Y0 += 0.00000001274 * Math.cos(2.13259616483 + 165.3441998137 * t);
-        Y0 += 0.00000001391 * Math.cos(1.59445777142 + 5860.4098123785 * t);
-        Y0 += 0.00000001383 * Math.cos(2.91115338480 + 880.023084695 * t);
-        Y0 += 0.00000001364 * Math.cos(3.65670468364 + 673.8375362578 * t);
-        Y0 += 0.00000001211 * Math.cos(0.72754477376 + 270.8152186179 * t);
-        Y0 += 0.00000001220 * Math.cos(5.76615286425 + 6599.467719648 * t);
-        Y0 += 0.00000001260 * Math.cos(4.21792862426 + 95.0160193713 * t);
-        Y0 += 0.00000001435 * Math.cos(4.73699005047 + 745.9108218394 * t);
-        Y0 += 0.00000001175 * Math.cos(0.45124710680 + 1773.9178027186 * t);
-        Y0 += 0.00000001373 * Math.cos(4.69446038699 + 5852.5455058523 * t);
-        Y0 += 0.00000001156 * Math.cos(2.09958021403 + 2957.7331481288 * t);
-        Y0 += 0.00000001148 * Math.cos(3.66152510897 + 2047.9144150742 * t);
-        Y0 += 0.00000001139 * Math.cos(2.68435803005 + 199.0238173266 * t);
-        Y0 += 0.00000001139 * Math.cos(2.20526813654 + 227.5743735494 * t);
-        Y0 += 0.00000001350 * Math.cos(5.09745513208 + 25440.89230825939 * t);
-        Y0 += 0.00000001311 * Math.cos(2.47777507424 + 332.1728723357 * t);
-        Y0 += 0.00000001176 * Math.cos(0.25747287404 + 303.0585475323 * t);
-        Y0 += 0.00000001161 * Math.cos(0.08009629228 + 2833.2997329078 * t);
-        Y0 += 0.00000001276 * Math.cos(4.92819616998 + 613.8737325231 * t);
-        Y0 += 0.00000001179 * Math.cos(0.96347481460 + 272.5815756165 * t);
-        Y0 += 0.00000001122 * Math.cos(0.92184815863 + 432.8179659995 * t);
-        Y0 += 0.00000001228 * Math.cos(4.57812464858 + 91.4563731237 * t);
-        Y0 += 0.00000001187 * Math.cos(4.30030791094 + 5863.5912061162 * t);
-        Y0 += 0.00000001432 * Math.cos(1.96156899893 + 1467.0701142751 * t);
-        Y0 += 0.00000001565 * Math.cos(5.50866075952 + 670.4960838257 * t);
-        Y0 += 0.00000001460 * Math.cos(4.02014508155 + 1128.534454464 * t);
-        Y0 += 0.00000001127 * Math.cos(0.75894620303 + 1248.1419445446 * t);
-        Y0 += 0.00000001142 * Math.cos(3.13725365534 + 1378.0614217062 * t);
-        Y0 += 0.00000001292 * Math.cos(4.94892179549 + 101.6083015103 * t);
-        Y0 += 0.00000001182 * Math.cos(5.41503430757 + 5540.0857894588 * t);
-        Y0 += 0.00000001261 * Math.cos(3.01344786948 + 520.129737539 * t);
-        Y0 += 0.00000001189 * Math.cos(1.44697668431 + 934.1977554428 * t);
-        Y0 += 0.00000001290 * Math.cos(4.31664662387 + 1403.3342159717 * t);
-        Y0 += 0.00000001238 * Math.cos(0.92078746343 + 1383.6904959987 * t);
-        Y0 += 0.00000001287 * Math.cos(2.71685606596 + 11.3063326948 * t);
-        Y0 += 0.00000001429 * Math.cos(2.57870016615 + 388.7257876691 * t);
-        Y0 += 0.00000001241 * Math.cos(1.16374635040 + 938.1299087059 * t);
-        Y0 += 0.00000001429 * Math.cos(1.35590972606 + 9367.2027114598 * t);
-        Y0 += 0.00000001238 * Math.cos(2.88082011488 + 559.6990617753 * t);
-        Y0 += 0.00000001192 * Math.cos(2.41474184165 + 527.2432845398 * t);
-        Y0 += 0.00000001464 * Math.cos(2.19517746458 + 1268.7488723641 * t);
-        Y0 += 0.00000001475 * Math.cos(4.07024767243 + 2810.9214616052 * t);
-        Y0 += 0.00000001114 * Math.cos(4.80667138601 + 674.4282370888 * t);
-        Y0 += 0.00000001103 * Math.cos(3.05975735898 + 531.6967026647 * t);
-        Y0 += 0.00000001075 * Math.cos(5.77191306487 + 17.4084877393 * t);
-        Y0 += 0.00000001301 * Math.cos(3.01791185503 + 9790.6195085981 * t);
-        Y0 += 0.00000001100 * Math.cos(4.42560702702 + 527.6852275245 * t);
-        Y0 += 0.00000001266 * Math.cos(5.92426661157 + 5867.5233593793 * t);
-        Y0 += 0.00000001257 * Math.cos(0.41197726402 + 877.5754041402 * t);
-        Y0 += 0.00000001442 * Math.cos(4.23877549265 + 4113.0943055358 * t);
-        Y0 += 0.00000001094 * Math.cos(4.00646645065 + 9896.8936765544 * t);
-        Y0 += 0.00000001072 * Math.cos(2.44003133103 + 220.5727011332 * t);
-        Y0 += 0.00000001072 * Math.cos(2.44959483556 + 206.0254897428 * t);
-        Y0 += 0.00000001283 * Math.cos(6.11791413409 + 9782.7552020719 * t);
-        Y0 += 0.00000001066 * Math.cos(0.35413270142 + 313.4711083498 * t);
-        Y0 += 0.00000001496 * Math.cos(6.13864478613 + 5436.9930152402 * t);
-        Y0 += 0.00000001150 * Math.cos(2.75164397729 + 622.4887985747 * t);
-        Y0 += 0.00000001081 * Math.cos(5.43327205124 + 1512.6467653138 * t);
-        Y0 += 0.00000001081 * Math.cos(5.08897949602 + 304.1223291153 * t);
-        Y0 += 0.00000001122 * Math.cos(2.67408029502 + 525.0250986486 * t);
-        Y0 += 0.00000001099 * Math.cos(2.14793939788 + 582.3811631341 * t);
-        Y0 += 0.00000001113 * Math.cos(2.78895749341 + 184.8449074348 * t);
-        Y0 += 0.00000001124 * Math.cos(1.95050273016 + 40.8413486235 * t);
-        Y0 += 0.00000001156 * Math.cos(4.91320818501 + 885.4397106664 * t);
-        Y0 += 0.00000001072 * Math.cos(5.83506752367 + 206.3456071316 * t);
-        Y0 += 0.00000001072 * Math.cos(5.33774395010 + 220.2525837444 * t);
-        Y0 += 0.00000001303 * Math.cos(2.12418606135 + 1096.2429414398 * t);
-        Y0 += 0.00000001170 * Math.cos(0.54627504485 + 704.8570248948 * t);
-        Y0 += 0.00000001397 * Math.cos(3.88391400366 + 1461.4410399826 * t);
-        Y0 += 0.00000001408 * Math.cos(3.76229402125 + 1112.0721282287 * t);
-        Y0 += 0.00000001047 * Math.cos(6.13974886268 + 2090.3096723752 * t);
-        Y0 += 0.00000001301 * Math.cos(6.22683407267 + 875.830299001 * t);
-        Y0 += 0.00000001288 * Math.cos(5.13607461897 + 1340.5615255148 * t);
-        Y0 += 0.00000001299 * Math.cos(0.71540574041 + 2509.7943162504 * t);
-        Y0 += 0.00000001230 * Math.cos(0.13956830728 + 25867.49049913539 * t);
-        Y0 += 0.00000001139 * Math.cos(0.41496903697 + 253.4591205053 * t);
-        Y0 += 0.00000001166 * Math.cos(3.48880285321 + 2467.3990589494 * t);
-        Y0 += 0.00000001294 * Math.cos(5.50067006265 + 1082.0158474382 * t);
-        Y0 += 0.00000001128 * Math.cos(1.50250031231 + 1222.2784494481 * t);
-        Y0 += 0.00000001335 * Math.cos(1.08179722040 + 730.4598875604 * t);
-        Y0 += 0.00000001131 * Math.cos(0.03214465517 + 689.6185389369 * t);
-        Y0 += 0.00000001038 * Math.cos(0.51297577197 + 1152.1797636693 * t);
-        Y0 += 0.00000001033 * Math.cos(1.52450189207 + 4010.0015313172 * t);
-        Y0 += 0.00000001303 * Math.cos(1.99200329985 + 945.9942152321 * t);
-        Y0 += 0.00000001127 * Math.cos(5.02755449215 + 78477.00852016058 * t);
-        Y0 += 0.00000001088 * Math.cos(1.87536175530 + 976.7360250957 * t);
-        Y0 += 0.00000001199 * Math.cos(2.54525785509 + 308.3151148093 * t);
-        Y0 += 0.00000001314 * Math.cos(2.07607830812 + 701.936263588 * t);
-        Y0 += 0.00000001105 * Math.cos(3.15207498933 + 971.1069508032 * t);
-        Y0 += 0.00000001029 * Math.cos(6.18632577425 + 1365.4788591073 * t);
-        Y0 += 0.00000001026 * Math.cos(0.76317034722 + 521.6142102473 * t);
-        Y0 += 0.00000001035 * Math.cos(1.58079454896 + 121.8427223143 * t);
-        Y0 += 0.00000001330 * Math.cos(3.46718588783 + 2740.5018994277 * t);
-        Y0 += 0.00000001129 * Math.cos(5.61460981892 + 1054.7160637432 * t);
-        Y0 += 0.00000001026 * Math.cos(3.09324791083 + 2442.2692770358 * t);
-        Y0 += 0.00000001244 * Math.cos(5.00296233329 + 761.7400086283 * t);
-        Y0 += 0.00000001252 * Math.cos(0.34989378235 + 1116.0042814918 * t);
-        Y0 += 0.00000001321 * Math.cos(2.86590848137 + 323.2447842265 * t);
-        Y0 += 0.00000001279 * Math.cos(1.94525342708 + 223.1209554245 * t);
-        Y0 += 0.00000001279 * Math.cos(2.94437273951 + 203.4772354515 * t);
-        Y0 += 0.00000001018 * Math.cos(1.34516588766 + 640.6480458394 * t);
-        Y0 += 0.00000001055 * Math.cos(5.07319058758 + 1460.7073267997 * t);
-        Y0 += 0.00000001015 * Math.cos(4.28796379199 + 1022.3126761344 * t);
-        Y0 += 0.00000001258 * Math.cos(0.69213323852 + 9573.388259897 * t);
-        Y0 += 0.00000001184 * Math.cos(1.06455252744 + 9797.7330555989 * t);
-        Y0 += 0.00000001007 * Math.cos(5.87812275210 + 102.8321417877 * t);
-        Y0 += 0.00000001104 * Math.cos(4.69963929431 + 1276.6131788903 * t);
-        Y0 += 0.00000001037 * Math.cos(2.37689196096 + 645.3139122854 * t);
-        Y0 += 0.00000001241 * Math.cos(0.02017171913 + 748.406686504 * t);
-        Y0 += 0.00000001019 * Math.cos(0.20483353540 + 6247.5131155228 * t);
-        Y0 += 0.00000001320 * Math.cos(5.92048945020 + 1127.2624300768 * t);
-        Y0 += 0.00000001110 * Math.cos(0.09479876796 + 1397.7051416792 * t);
-        Y0 += 0.00000001254 * Math.cos(4.10528340828 + 758.7710632117 * t);
-        Y0 += 0.00000001119 * Math.cos(1.80586847421 + 4966.2906872878 * t);
-        Y0 += 0.00000001393 * Math.cos(2.24060310557 + 25558.2121764796 * t);
-        Y0 += 0.00000001197 * Math.cos(0.06674040925 + 47.061123747 * t);
-        Y0 += 0.00000000993 * Math.cos(3.81339502228 + 1759.8337210689 * t);
-        Y0 += 0.00000001344 * Math.cos(5.35674518674 + 108.50940019 * t);
-        Y0 += 0.00000001031 * Math.cos(3.42249730866 + 714.5358725294 * t);
-        Y0 += 0.00000001008 * Math.cos(5.42544405998 + 557.0389328994 * t);
-        Y0 += 0.00000001003 * Math.cos(5.72439128757 + 3067.9394693482 * t);
-        Y0 += 0.00000001170 * Math.cos(3.04619310978 + 1176.7017984094 * t);
-        Y0 += 0.00000001030 * Math.cos(1.19140347405 + 5385.775331163 * t);
-        Y0 += 0.00000001160 * Math.cos(4.66675692714 + 152.7445908723 * t);
-        Y0 += 0.00000001132 * Math.cos(3.30323864793 + 1467.8208738005 * t);
-        Y0 += 0.00000001056 * Math.cos(2.35368791284 + 683.1863154923 * t);
-        Y0 += 0.00000001201 * Math.cos(1.52741197289 + 528.4671248172 * t);
-        Y0 += 0.00000001019 * Math.cos(2.53037345351 + 599.6466385215 * t);
-        Y0 += 0.00000001009 * Math.cos(0.40854433922 + 1939.2449561898 * t);
-        Y0 += 0.00000001269 * Math.cos(0.83510696953 + 1239.5439248355 * t);
-        Y0 += 0.00000000973 * Math.cos(2.36193993021 + 173.1390703707 * t);
-        Y0 += 0.00000001082 * Math.cos(6.08511886961 + 442.639825986 * t);
-        Y0 += 0.00000001282 * Math.cos(5.51004335308 + 314.9073969483 * t);
-        Y0 += 0.00000001108 * Math.cos(4.52501543913 + 523.5406259403 * t);
-        Y0 += 0.00000001105 * Math.cos(5.86158639420 + 199.1201855462 * t);
-        Y0 += 0.00000001105 * Math.cos(5.31122507957 + 227.4780053298 * t);
-        Y0 += 0.00000000965 * Math.cos(1.83712872363 + 5599.074426601 * t);
-        Y0 += 0.00000001072 * Math.cos(3.41208137140 + 572.9799942729 * t);
-        Y0 += 0.00000001227 * Math.cos(2.37509830492 + 1973.1328165069 * t);
-        Y0 += 0.00000000986 * Math.cos(5.10430433948 + 3679.382567659 * t);
-        Y0 += 0.00000001186 * Math.cos(0.73895067297 + 772.9981572133 * t);
-        Y0 += 0.00000001222 * Math.cos(1.63996260052 + 775.9671026299 * t);
-        Y0 += 0.00000001089 * Math.cos(4.89269944083 + 416.5638825684 * t);
-        Y0 += 0.00000001180 * Math.cos(2.37180620952 + 1226.2106027112 * t);
-        Y0 += 0.00000000953 * Math.cos(1.64633028007 + 951.4632308302 * t);
-        Y0 += 0.00000001226 * Math.cos(4.39692936186 + 25344.9130810416 * t);
-        Y0 += 0.00000001022 * Math.cos(3.85581532580 + 968.1380053866 * t);
-        Y0 += 0.00000001161 * Math.cos(5.33337222331 + 6327.837393132 * t);
-        Y0 += 0.00000000959 * Math.cos(3.23065315419 + 104138.31347085879 * t);
-        Y0 += 0.00000000950 * Math.cos(1.34328833506 + 568.2970814844 * t);
-        Y0 += 0.00000001210 * Math.cos(6.18765615746 + 2597.6223661672 * t);
-        Y0 += 0.00000001221 * Math.cos(3.06185083945 + 1458.472094566 * t);
-        Y0 += 0.00000000989 * Math.cos(6.21888180767 + 394.9455627926 * t);
-        Y0 += 0.00000001092 * Math.cos(2.10149693935 + 1681.1199692385 * t);
-        Y0 += 0.00000001155 * Math.cos(0.22997009337 + 308.5275631304 * t);
-        Y0 += 0.00000000945 * Math.cos(2.34748592116 + 731.6837278378 * t);
-        Y0 += 0.00000000961 * Math.cos(1.78007954840 + 1333.2355301929 * t);
-        Y0 += 0.00000001100 * Math.cos(3.22997983392 + 608.2446582306 * t);
-        Y0 += 0.00000000937 * Math.cos(3.34749725600 + 544.5087599272 * t);
-        Y0 += 0.00000001297 * Math.cos(2.80101502823 + 1784.2127434571 * t);
-        Y0 += 0.00000001122 * Math.cos(0.69750945684 + 877.1023233882 * t);
-        Y0 += 0.00000000933 * Math.cos(0.51299958961 + 848.530515306 * t);
-        Y0 += 0.00000001045 * Math.cos(1.54081682323 + 1987.2168981566 * t);
-        Y0 += 0.00000001056 * Math.cos(0.84339591320 + 62.038977274 * t);
-        Y0 += 0.00000000999 * Math.cos(0.90076451228 + 3569.1762464396 * t);
-        Y0 += 0.00000001005 * Math.cos(0.28351221664 + 9793.8009023358 * t);
-        Y0 += 0.00000000930 * Math.cos(4.21016384068 + 818.574808252 * t);
-        Y0 += 0.00000001066 * Math.cos(0.47942092975 + 2306.7901615509 * t);
-        Y0 += 0.00000000963 * Math.cos(0.11398671683 + 316.9131345184 * t);
-        Y0 += 0.00000001221 * Math.cos(4.50707535867 + 473.068613792 * t);
-        Y0 += 0.00000001116 * Math.cos(1.68960080489 + 517.1607921224 * t);
-        Y0 += 0.00000001044 * Math.cos(2.16537763505 + 836.5216071956 * t);
-        Y0 += 0.00000001147 * Math.cos(5.47459127263 + 633.305004175 * t);
-        Y0 += 0.00000001052 * Math.cos(3.11316362179 + 6261.7402095244 * t);
-        Y0 += 0.00000001072 * Math.cos(5.82302843412 + 781.5961769224 * t);
-        Y0 += 0.00000001082 * Math.cos(3.68063207053 + 2151.0071892928 * t);
-        Y0 += 0.00000000931 * Math.cos(0.21521830264 + 354.9979860464 * t);
-        Y0 += 0.00000000948 * Math.cos(3.43998144012 + 97.4636999261 * t);
-        Y0 += 0.00000001057 * Math.cos(6.03030458165 + 3707.8367556622 * t);
-        Y0 += 0.00000000960 * Math.cos(6.20933873501 + 2015.6710861598 * t);
-        Y0 += 0.00000001049 * Math.cos(5.33285992294 + 1018.3281332446 * t);
-        Y0 += 0.00000001139 * Math.cos(0.28846267487 + 5845.4319588515 * t);
-        Y0 += 0.00000000914 * Math.cos(6.19113704199 + 838.218528225 * t);
-        Y0 += 0.00000000914 * Math.cos(1.06552716224 + 385.7568422525 * t);
-        Y0 += 0.00000001042 * Math.cos(1.84028027185 + 1304.9243545416 * t);
-        Y0 += 0.00000001203 * Math.cos(1.07996928802 + 5333.9002410216 * t);
-        Y0 += 0.00000001048 * Math.cos(1.94898160418 + 1471.0022675382 * t);
-        Y0 += 0.00000000931 * Math.cos(3.02433582418 + 5966.6839803348 * t);
-        Y0 += 0.00000001121 * Math.cos(6.06132137788 + 1079.8287993143 * t);
-        Y0 += 0.00000000973 * Math.cos(4.25729641570 + 522.529233984 * t);
-        Y0 += 0.00000001041 * Math.cos(1.71140114347 + 1186.853726796 * t);
-        Y0 += 0.00000001248 * Math.cos(5.81880585315 + 1392.2885157078 * t);
-        Y0 += 0.00000001071 * Math.cos(2.37134940495 + 947.5310775671 * t);
-        Y0 += 0.00000000983 * Math.cos(6.14597134557 + 1432.3961511484 * t);
-        Y0 += 0.00000000939 * Math.cos(4.76698210393 + 632.2624744514 * t);
-        Y0 += 0.00000000947 * Math.cos(1.70406168716 + 1791.3262904579 * t);
-        Y0 += 0.00000000933 * Math.cos(0.10105086253 + 401.5378449316 * t);
-        Y0 += 0.00000000899 * Math.cos(5.66539137251 + 605.9570363702 * t);
-        Y0 += 0.00000000895 * Math.cos(4.34232828985 + 774.0095491696 * t);
-        Y0 += 0.00000001120 * Math.cos(5.72518062452 + 507.5995645668 * t);
-        Y0 += 0.00000001109 * Math.cos(4.52510690641 + 1259.1876448085 * t);
-        Y0 += 0.00000001167 * Math.cos(3.02717194449 + 25771.5112719176 * t);
-        Y0 += 0.00000001011 * Math.cos(4.96279902162 + 600.5404103988 * t);
-        Y0 += 0.00000000896 * Math.cos(1.24835724643 + 6386.16862421 * t);
-        Y0 += 0.00000000931 * Math.cos(2.99706770941 + 529.57909051 * t);
-        Y0 += 0.00000000952 * Math.cos(0.90233317636 + 1197.8994270599 * t);
-        Y0 += 0.00000000963 * Math.cos(0.20943184390 + 770.3380283374 * t);
-        Y0 += 0.00000000923 * Math.cos(1.51298250216 + 3171.0322435668 * t);
-        Y0 += 0.00000000907 * Math.cos(2.14028131544 + 663.8032279502 * t);
-        Y0 += 0.00000000906 * Math.cos(5.11765190175 + 2961.6653013919 * t);
-        Y0 += 0.00000001214 * Math.cos(4.42120077268 + 2946.6874478649 * t);
-        Y0 += 0.00000000967 * Math.cos(0.98988062069 + 10529.6774158676 * t);
-        Y0 += 0.00000001179 * Math.cos(3.99906681922 + 260.9933586314 * t);
-        Y0 += 0.00000000950 * Math.cos(0.59456934149 + 944.9828232758 * t);
-        Y0 += 0.00000000872 * Math.cos(3.49844276549 + 102.9327155242 * t);
-        Y0 += 0.00000000956 * Math.cos(2.92027266913 + 1527.6246188408 * t);
-        Y0 += 0.00000000902 * Math.cos(4.43760131078 + 1407.2663692348 * t);
-        Y0 += 0.00000000970 * Math.cos(2.49664105561 + 51322.60990139639 * t);
-        Y0 += 0.00000000871 * Math.cos(0.48742243908 + 103.252832913 * t);
-        Y0 += 0.00000000943 * Math.cos(0.71258336966 + 6018.5590704762 * t);
-        Y0 += 0.00000001016 * Math.cos(4.70921884112 + 981.4189378842 * t);
-        Y0 += 0.00000000881 * Math.cos(4.58021114149 + 2843.5946736463 * t);
-        Y0 += 0.00000001085 * Math.cos(0.37811767801 + 1546.5346256309 * t);
-        Y0 += 0.00000000939 * Math.cos(3.15073621706 + 12573.2652469836 * t);
-        Y0 += 0.00000000868 * Math.cos(0.44886276523 + 449.4927405559 * t);
-        Y0 += 0.00000001172 * Math.cos(0.20951776841 + 979.1837056505 * t);
-        Y0 += 0.00000001152 * Math.cos(0.35051240732 + 775.4458377681 * t);
-        Y0 += 0.00000001101 * Math.cos(5.07266587861 + 494.4786907636 * t);
-        Y0 += 0.00000001065 * Math.cos(1.71191506456 + 9775.6416550711 * t);
-        Y0 += 0.00000000853 * Math.cos(4.59373677875 + 4760.1051388506 * t);
-        Y0 += 0.00000000918 * Math.cos(6.03829321587 + 52168.69273614759 * t);
-        Y0 += 0.00000000878 * Math.cos(6.24767898008 + 166.237971691 * t);
-        Y0 += 0.00000001010 * Math.cos(1.98220117589 + 480.251596762 * t);
-        Y0 += 0.00000001152 * Math.cos(1.04093902543 + 3693.6096616606 * t);
-        Y0 += 0.00000000960 * Math.cos(1.81660864656 + 5842.2505651138 * t);
-        Y0 += 0.00000000859 * Math.cos(1.05530609054 + 1886.5547581503 * t);
-        Y0 += 0.00000000877 * Math.cos(5.41246001857 + 4642.7852706304 * t);
-        Y0 += 0.00000000845 * Math.cos(2.85280736082 + 726.3152859762 * t);
-        Y0 += 0.00000000858 * Math.cos(5.12251529685 + 1035.002907801 * t);
-        Y0 += 0.00000000935 * Math.cos(1.83502346499 + 61.2882177486 * t);
-        Y0 += 0.00000000840 * Math.cos(2.81067577434 + 9808.5381846614 * t);
-        Y0 += 0.00000000959 * Math.cos(1.37621356390 + 249.6870259366 * t);
-        Y0 += 0.00000000959 * Math.cos(0.37181994910 + 176.9111649394 * t);
-        Y0 += 0.00000000855 * Math.cos(3.98853878940 + 1310.3933701397 * t);
-        Y0 += 0.00000000843 * Math.cos(3.12599906236 + 248.4631856592 * t);
-        Y0 += 0.00000000843 * Math.cos(4.90521975782 + 178.1350052168 * t);
-        Y0 += 0.00000000996 * Math.cos(0.20876442702 + 1332.4847706675 * t);
-        Y0 += 0.00000000953 * Math.cos(0.51927892471 + 1230.1427559743 * t);
-        Y0 += 0.00000000829 * Math.cos(4.13735314255 + 1303.2798231389 * t);
-        Y0 += 0.00000000915 * Math.cos(0.15291133436 + 1329.3033769298 * t);
-        Y0 += 0.00000000866 * Math.cos(4.28206544053 + 1535.488925367 * t);
-        Y0 += 0.00000001030 * Math.cos(4.82649926782 + 1439.5096981492 * t);
-        Y0 += 0.00000000882 * Math.cos(6.14842643790 + 9683.5945811164 * t);
-        Y0 += 0.00000000852 * Math.cos(0.51301141846 + 6004.3319764746 * t);
-        Y0 += 0.00000000825 * Math.cos(0.62630510792 + 20007.0864485468 * t);
-        Y0 += 0.00000000918 * Math.cos(3.42990447828 + 803.5445650983 * t);
-        Y0 += 0.00000000853 * Math.cos(1.59971801488 + 1235.6117715724 * t);
-        Y0 += 0.00000000951 * Math.cos(5.46704322360 + 170.9732741062 * t);
-        Y0 += 0.00000001144 * Math.cos(1.01612696205 + 982.1526510671 * t);
-        Y0 += 0.00000000875 * Math.cos(0.47626060283 + 711.4974911436 * t);
-        Y0 += 0.00000000905 * Math.cos(2.71960412461 + 1257.7031721002 * t);
-        Y0 += 0.00000001152 * Math.cos(5.33984775483 + 987.7817253596 * t);
-        Y0 += 0.00000000998 * Math.cos(1.04631660524 + 6069.7767545534 * t);
-        Y0 += 0.00000000854 * Math.cos(0.23340791396 + 6179.9830757728 * t);
-        Y0 += 0.00000000840 * Math.cos(5.60050623367 + 1336.4169239306 * t);
-        Y0 += 0.00000000991 * Math.cos(3.14797549363 + 720.8986600048 * t);
-        Y0 += 0.00000000819 * Math.cos(2.67378067049 + 10316.3783204296 * t);
-        Y0 += 0.00000000919 * Math.cos(3.47325211191 + 1026.2448293975 * t);
-        Y0 += 0.00000000994 * Math.cos(1.60950672580 + 829.6205085159 * t);
-        Y0 += 0.00000000943 * Math.cos(4.17403338141 + 1109.6244476739 * t);
-        Y0 += 0.00000000927 * Math.cos(4.19849435960 + 204.91352405 * t);
-        Y0 += 0.00000000927 * Math.cos(0.69113180699 + 221.684666826 * t);
-        Y0 += 0.00000000871 * Math.cos(0.52354702088 + 9470.2954856784 * t);
-        Y0 += 0.00000000933 * Math.cos(4.15364437718 + 1674.0064222377 * t);
-        Y0 += 0.00000000877 * Math.cos(4.52268592431 + 653.2306084383 * t);
-        Y0 += 0.00000000927 * Math.cos(2.66429940836 + 1962.087116243 * t);
-        Y0 += 0.00000000880 * Math.cos(0.13023886547 + 547.8502123593 * t);
-        Y0 += 0.00000001082 * Math.cos(5.65042296748 + 26404.2950112308 * t);
-        Y0 += 0.00000000919 * Math.cos(4.83467452443 + 1055.1891444952 * t);
-        Y0 += 0.00000000846 * Math.cos(6.02295130304 + 931.0163617051 * t);
-        Y0 += 0.00000001037 * Math.cos(5.02887266884 + 5805.2599750382 * t);
-        Y0 += 0.00000000800 * Math.cos(4.13177049709 + 4635.6717236296 * t);
-        Y0 += 0.00000000867 * Math.cos(5.47092894803 + 155.1922714271 * t);
-        Y0 += 0.00000001053 * Math.cos(4.90390047531 + 1901.5326116773 * t);
-        Y0 += 0.00000001079 * Math.cos(3.72322614378 + 902.9176343749 * t);
-        Y0 += 0.00000000795 * Math.cos(2.40394296780 + 529.6427809848 * t);
-        Y0 += 0.00000000896 * Math.cos(0.27836778819 + 580.0935412737 * t);
-        Y0 += 0.00000001031 * Math.cos(0.60335376470 + 688.6553310904 * t);
-        Y0 += 0.00000000798 * Math.cos(0.89814256581 + 437.9045235708 * t);
-        Y0 += 0.00000001053 * Math.cos(1.91920415131 + 859.4161568755 * t);
-        Y0 += 0.00000000831 * Math.cos(0.54907671784 + 2748.3662059539 * t);
-        Y0 += 0.00000000795 * Math.cos(2.54691720565 + 866.5297038763 * t);
-        Y0 += 0.00000000840 * Math.cos(1.48233531283 + 1385.174968707 * t);
-        Y0 += 0.00000000803 * Math.cos(4.00105166343 + 19992.85935454519 * t);
-        Y0 += 0.00000000854 * Math.cos(0.46873622406 + 1784.9635029825 * t);
-        Y0 += 0.00000000815 * Math.cos(6.16459574602 + 52175.8062831484 * t);
-        Y0 += 0.00000000831 * Math.cos(5.64600755399 + 898.7730327907 * t);
-        Y0 += 0.00000000937 * Math.cos(0.42725418233 + 68.1893164283 * t);
-        Y0 += 0.00000000972 * Math.cos(1.58618574208 + 892.5532576672 * t);
-        Y0 += 0.00000000927 * Math.cos(3.30290599729 + 1025.4416802454 * t);
-        Y0 += 0.00000000805 * Math.cos(1.96267237780 + 913.0001267923 * t);
-        Y0 += 0.00000001019 * Math.cos(5.48579524125 + 103.2046488032 * t);
-        Y0 += 0.00000000847 * Math.cos(2.97610300430 + 1052.3165672982 * t);
-        Y0 += 0.00000000873 * Math.cos(4.08656619449 + 63.6240237188 * t);
-        Y0 += 0.00000000893 * Math.cos(0.91586743264 + 63.847772888 * t);
-        Y0 += 0.00000000793 * Math.cos(4.26073072769 + 746.1714542703 * t);
-        Y0 += 0.00000001086 * Math.cos(1.02446339597 + 592.2030231206 * t);
-        Y0 += 0.00000000771 * Math.cos(2.27022333294 + 887.7273325268 * t);
-        Y0 += 0.00000000779 * Math.cos(2.54078758579 + 689.4060906158 * t);
-        Y0 += 0.00000000806 * Math.cos(1.66859223326 + 10110.1927719924 * t);
-        Y0 += 0.00000000887 * Math.cos(1.70334556979 + 26514.5013324502 * t);
-        Y0 += 0.00000000929 * Math.cos(2.62709773685 + 1120.148883076 * t);
-        Y0 += 0.00000000789 * Math.cos(3.20945790021 + 1030.927742186 * t);
-        Y0 += 0.00000000767 * Math.cos(4.66307945149 + 498.1983957056 * t);
-        Y0 += 0.00000001021 * Math.cos(1.40139494002 + 1.6969210294 * t);
-        Y0 += 0.00000000959 * Math.cos(1.04789269733 + 6076.8903015542 * t);
-        Y0 += 0.00000000784 * Math.cos(5.99841824258 + 5158.2491417234 * t);
-        Y0 += 0.00000000936 * Math.cos(0.72034877666 + 841.8900490572 * t);
-        Y0 += 0.00000000766 * Math.cos(6.24799605844 + 1101.0264279648 * t);
-        Y0 += 0.00000000839 * Math.cos(4.71654625446 + 1231.6272286826 * t);
-        Y0 += 0.00000001015 * Math.cos(0.10530028205 + 100.1720129118 * t);
-        Y0 += 0.00000000778 * Math.cos(4.04810843349 + 2321.7680150779 * t);
-        Y0 += 0.00000000866 * Math.cos(5.12432196817 + 1293.8786542777 * t);
-        Y0 += 0.00000001032 * Math.cos(1.17517343066 + 3657.0042963564 * t);
-        Y0 += 0.00000000947 * Math.cos(3.08746343216 + 447.7958195265 * t);
-        Y0 += 0.00000000768 * Math.cos(1.62756580326 + 845.3320752258 * t);
-        Y0 += 0.00000000799 * Math.cos(5.14688268900 + 734.9133056853 * t);
-        Y0 += 0.00000000908 * Math.cos(0.26950699609 + 733.428832977 * t);
-        Y0 += 0.00000000767 * Math.cos(4.46762890624 + 2439.0878832981 * t);
-        Y0 += 0.00000000814 * Math.cos(0.37021427089 + 545.4719677737 * t);
-        Y0 += 0.00000000758 * Math.cos(0.34567197825 + 2520.0892569889 * t);
-        Y0 += 0.00000000769 * Math.cos(5.87092758190 + 1052.2201990786 * t);
-        Y0 += 0.00000000777 * Math.cos(2.78595286028 + 2014.0265547571 * t);
-        Y0 += 0.00000000882 * Math.cos(1.95143255195 + 870.4618571394 * t);
-        Y0 += 0.00000001020 * Math.cos(5.90465000788 + 1475.6851803267 * t);
-        Y0 += 0.00000001002 * Math.cos(2.61282923035 + 52182.9198301492 * t);
-        Y0 += 0.00000000968 * Math.cos(0.11565571052 + 273.8536000037 * t);
-        Y0 += 0.00000001032 * Math.cos(4.67952456423 + 901.9544265284 * t);
-        Y0 += 0.00000000798 * Math.cos(2.99561263866 + 188.2387494936 * t);
-        Y0 += 0.00000000783 * Math.cos(4.50695826573 + 664.2763087022 * t);
-        Y0 += 0.00000000974 * Math.cos(3.91688033246 + 518.9058972616 * t);
-        Y0 += 0.00000000839 * Math.cos(5.64758218929 + 13362.4497067992 * t);
-        Y0 += 0.00000000787 * Math.cos(5.13104524009 + 487.1526954417 * t);
-        Y0 += 0.00000000916 * Math.cos(3.77881993784 + 655.4176565622 * t);
-        Y0 += 0.00000000771 * Math.cos(3.10909230338 + 6058.7310542895 * t);
-        Y0 += 0.00000000881 * Math.cos(4.53520937731 + 522.6256022036 * t);
-        Y0 += 0.00000000849 * Math.cos(2.69053963232 + 142.6620984549 * t);
-        Y0 += 0.00000000831 * Math.cos(5.48519211288 + 436.6324991836 * t);
-        Y0 += 0.00000000777 * Math.cos(4.48728323493 + 1459.9565672743 * t);
-        Y0 += 0.00000000768 * Math.cos(4.55911217014 + 2093.4910661129 * t);
-        Y0 += 0.00000000757 * Math.cos(2.65987497026 + 5495.9816523824 * t);
-        Y0 += 0.00000000742 * Math.cos(5.52726117983 + 2332.0629558164 * t);
-        Y0 += 0.00000000940 * Math.cos(1.37204266374 + 461.7622810972 * t);
-        Y0 += 0.00000000881 * Math.cos(4.14004497053 + 157.4275036608 * t);
-        Y0 += 0.00000000881 * Math.cos(3.89117384965 + 269.1706872152 * t);
-        Y0 += 0.00000000789 * Math.cos(1.23325676313 + 678.0303219518 * t);
-        Y0 += 0.00000000984 * Math.cos(3.96155401430 + 3281.2385647862 * t);
-        Y0 += 0.00000000831 * Math.cos(3.47299098336 + 595.7144852584 * t);
-        Y0 += 0.00000000999 * Math.cos(1.13314642156 + 920.8644333185 * t);
-        Y0 += 0.00000000742 * Math.cos(5.70935160714 + 731.9443602687 * t);
-        Y0 += 0.00000000731 * Math.cos(2.60139474945 + 995.6460318858 * t);
-        Y0 += 0.00000000830 * Math.cos(1.77407654847 + 1016.8436605363 * t);
-        Y0 += 0.00000000838 * Math.cos(2.96887278071 + 1809.4855377226 * t);
-        Y0 += 0.00000000841 * Math.cos(2.45745541864 + 1051.3051753419 * t);
-        Y0 += 0.00000000854 * Math.cos(0.98057544228 + 260.360219185 * t);
-        Y0 += 0.00000000744 * Math.cos(0.83167351532 + 1262.3860848887 * t);
-        Y0 += 0.00000000741 * Math.cos(5.23085224752 + 2630.2955782083 * t);
-        Y0 += 0.00000000993 * Math.cos(0.70716715579 + 1126.2992222303 * t);
-        Y0 += 0.00000000720 * Math.cos(1.56500655520 + 103711.71527998279 * t);
-        Y0 += 0.00000000776 * Math.cos(0.11552710493 + 1703.2113697663 * t);
-        Y0 += 0.00000000781 * Math.cos(2.19194495830 + 1255.2725378879 * t);
-        Y0 += 0.00000000984 * Math.cos(2.53004116896 + 7232.2514589612 * t);
-        Y0 += 0.00000000800 * Math.cos(5.59986435483 + 529.7391492044 * t);
-        Y0 += 0.00000000729 * Math.cos(4.65946561531 + 1649.6273998495 * t);
-        Y0 += 0.00000000795 * Math.cos(3.18515228074 + 1578.0271950199 * t);
-        Y0 += 0.00000000785 * Math.cos(4.60689165591 + 3892.681663097 * t);
-        Y0 += 0.00000000749 * Math.cos(2.29649366933 + 785.5283301855 * t);
-        Y0 += 0.00000000719 * Math.cos(5.79339190715 + 467.4395394995 * t);
-        Y0 += 0.00000000857 * Math.cos(3.17633759904 + 1158.5425511447 * t);
-        Y0 += 0.00000000709 * Math.cos(3.15027123836 + 2431.2235767719 * t);
-        Y0 += 0.00000000825 * Math.cos(5.06498115275 + 1163.4379122543 * t);
-        Y0 += 0.00000000846 * Math.cos(0.32817929651 + 669.6447505638 * t);
-        Y0 += 0.00000000711 * Math.cos(0.51488865945 + 257.3912737684 * t);
-        Y0 += 0.00000000720 * Math.cos(0.23831524300 + 255.6249167698 * t);
-        Y0 += 0.00000000850 * Math.cos(6.00519987822 + 893.3564068193 * t);
-        Y0 += 0.00000000786 * Math.cos(1.09310702278 + 1877.0105769372 * t);
-        Y0 += 0.00000000800 * Math.cos(4.99602201203 + 147.1155165798 * t);
-        Y0 += 0.00000000800 * Math.cos(3.03519680815 + 279.4826742962 * t);
-        Y0 += 0.00000000726 * Math.cos(1.74105086917 + 119.3950417595 * t);
-        Y0 += 0.00000000720 * Math.cos(4.53254360784 + 9988.9407505091 * t);
-        Y0 += 0.00000000974 * Math.cos(2.42570914230 + 738.3241940866 * t);
-        Y0 += 0.00000000825 * Math.cos(4.40565729511 + 1012.8633231634 * t);
-        Y0 += 0.00000000928 * Math.cos(4.77788887117 + 5856.4776591154 * t);
-        Y0 += 0.00000000729 * Math.cos(1.61950166057 + 938.8806682313 * t);
-        Y0 += 0.00000000783 * Math.cos(6.05642153657 + 227.0049245778 * t);
-        Y0 += 0.00000000783 * Math.cos(5.11638993720 + 199.5932662982 * t);
-        Y0 += 0.00000000711 * Math.cos(0.78076574241 + 461.1291416508 * t);
-        Y0 += 0.00000000706 * Math.cos(3.11783170970 + 740.2817475469 * t);
-        Y0 += 0.00000000707 * Math.cos(3.12817541549 + 5654.2242639413 * t);
-        Y0 += 0.00000000917 * Math.cos(5.15440738995 + 665.0270682276 * t);
-        Y0 += 0.00000000707 * Math.cos(3.00720307782 + 111.6907939277 * t);
-        Y0 += 0.00000000811 * Math.cos(4.27025807476 + 1799.1905969841 * t);
-        Y0 += 0.00000000703 * Math.cos(0.34276578700 + 809.0135806964 * t);
-        Y0 += 0.00000000736 * Math.cos(5.91316802743 + 403.7036411961 * t);
-        Y0 += 0.00000000782 * Math.cos(5.65617344255 + 309.230138546 * t);
-        Y0 += 0.00000000737 * Math.cos(2.65037863056 + 285.6330134505 * t);
-        Y0 += 0.00000000817 * Math.cos(2.85530610777 + 4863.1979130692 * t);
-        Y0 += 0.00000000684 * Math.cos(5.85076034411 + 1585.1407420207 * t);
-        Y0 += 0.00000000685 * Math.cos(4.29010164874 + 455.0523788792 * t);
-        Y0 += 0.00000000793 * Math.cos(3.19405005242 + 5422.7659212386 * t);
-        Y0 += 0.00000000803 * Math.cos(5.39520301385 + 1688.9842757647 * t);
-        Y0 += 0.00000000818 * Math.cos(3.10302225792 + 391.976617376 * t);
-        Y0 += 0.00000000705 * Math.cos(5.82260938168 + 3466.083472221 * t);
-        Y0 += 0.00000000836 * Math.cos(3.85309730075 + 570.5323137181 * t);
-        Y0 += 0.00000000752 * Math.cos(0.56556241430 + 413.1048100573 * t);
-        Y0 += 0.00000000681 * Math.cos(0.83326775082 + 458.090760265 * t);
-        Y0 += 0.00000000681 * Math.cos(5.71281585921 + 2143.893642292 * t);
-        Y0 += 0.00000000743 * Math.cos(2.21707684604 + 1016.0929010109 * t);
-        Y0 += 0.00000000702 * Math.cos(1.24544695479 + 598.8434893694 * t);
-        Y0 += 0.00000000810 * Math.cos(3.81368284008 + 614.8369403696 * t);
-        Y0 += 0.00000000681 * Math.cos(1.84015126699 + 2954.5517543911 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 917 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.05373889135;
-        Y1 += 0.03090575152 * Math.cos(2.70346890906 + 426.598190876 * t);
-        Y1 += 0.02741594312 * Math.cos(4.26667636015 + 206.1855484372 * t);
-        Y1 += 0.02647489677 * Math.cos(3.76132298889 + 220.4126424388 * t);
-        Y1 += 0.00631520527 * Math.cos(5.03245505280 + 7.1135470008 * t);
-        Y1 += 0.00256799701 * Math.cos(1.95351819758 + 639.897286314 * t);
-        Y1 += 0.00312271930 * Math.cos(3.25850205023 + 419.4846438752 * t);
-        Y1 += 0.00189433319 * Math.cos(2.91501840819 + 433.7117378768 * t);
-        Y1 += 0.00164133553 * Math.cos(5.29239290066 + 213.299095438 * t);
-        Y1 += 0.00116791227 * Math.cos(5.89146675760 + 110.2063212194 * t);
-        Y1 += 0.00067210919 * Math.cos(2.17042636344 + 316.3918696566 * t);
-        Y1 += 0.00067003292 * Math.cos(3.63101075514 + 227.5261894396 * t);
-        Y1 += 0.00033002406 * Math.cos(4.35527405801 + 199.0720014364 * t);
-        Y1 += 0.00030628998 * Math.cos(4.88861760772 + 14.2270940016 * t);
-        Y1 += 0.00022234714 * Math.cos(4.62212779231 + 103.0927742186 * t);
-        Y1 += 0.00018945004 * Math.cos(1.20412493845 + 853.196381752 * t);
-        Y1 += 0.00018079959 * Math.cos(3.51566153251 + 209.3669421749 * t);
-        Y1 += 0.00017791543 * Math.cos(4.53214140649 + 217.2312487011 * t);
-        Y1 += 0.00016320701 * Math.cos(3.29784030970 + 216.4804891757 * t);
-        Y1 += 0.00015944258 * Math.cos(4.74503265169 + 210.1177017003 * t);
-        Y1 += 0.00016717122 * Math.cos(3.00270792752 + 632.7837393132 * t);
-        Y1 += 0.00016149947 * Math.cos(4.04186432517 + 323.5054166574 * t);
-        Y1 += 0.00014481431 * Math.cos(2.10298298650 + 647.0108333148 * t);
-        Y1 += 0.00011084040 * Math.cos(4.74073871754 + 117.3198682202 * t);
-        Y1 += 0.00009905491 * Math.cos(3.60258599375 + 202.2533951741 * t);
-        Y1 += 0.00008726051 * Math.cos(4.46341342877 + 224.3447957019 * t);
-        Y1 += 0.00006585597 * Math.cos(4.07326320487 + 309.2783226558 * t);
-        Y1 += 0.00005505978 * Math.cos(2.83207390240 + 440.8252848776 * t);
-        Y1 += 0.00005424041 * Math.cos(1.03197684410 + 11.0457002639 * t);
-        Y1 += 0.00004178266 * Math.cos(3.01038512076 + 412.3710968744 * t);
-        Y1 += 0.00004049905 * Math.cos(5.17488767645 + 95.9792272178 * t);
-        Y1 += 0.00002735256 * Math.cos(2.53975850409 + 149.5631971346 * t);
-        Y1 += 0.00002369024 * Math.cos(2.40497927917 + 522.5774180938 * t);
-        Y1 += 0.00001745258 * Math.cos(5.50576015456 + 277.0349937414 * t);
-        Y1 += 0.00001692790 * Math.cos(2.39926502529 + 422.6660376129 * t);
-        Y1 += 0.00001546006 * Math.cos(3.73156925599 + 330.6189636582 * t);
-        Y1 += 0.00001389354 * Math.cos(0.46207025895 + 1066.49547719 * t);
-        Y1 += 0.00001332553 * Math.cos(3.49199812296 + 234.6397364404 * t);
-        Y1 += 0.00001300934 * Math.cos(0.83727681906 + 415.5524906121 * t);
-        Y1 += 0.00001393622 * Math.cos(4.62214277175 + 3.1813937377 * t);
-        Y1 += 0.00001174319 * Math.cos(2.72609984335 + 846.0828347512 * t);
-        Y1 += 0.00001148010 * Math.cos(3.04374738882 + 536.8045120954 * t);
-        Y1 += 0.00001314125 * Math.cos(4.38891656600 + 625.6701923124 * t);
-        Y1 += 0.00001127952 * Math.cos(3.87309692307 + 423.4167971383 * t);
-        Y1 += 0.00001127646 * Math.cos(1.31088906213 + 860.3099287528 * t);
-        Y1 += 0.00001519732 * Math.cos(6.12880664637 + 3.9321532631 * t);
-        Y1 += 0.00001102361 * Math.cos(2.50535306014 + 429.7795846137 * t);
-        Y1 += 0.00001344891 * Math.cos(1.41793593685 + 210.8514148832 * t);
-        Y1 += 0.00001331786 * Math.cos(0.33834520814 + 215.7467759928 * t);
-        Y1 += 0.00000883058 * Math.cos(3.84618360720 + 437.6438911399 * t);
-        Y1 += 0.00000845266 * Math.cos(2.61037749001 + 838.9692877504 * t);
-        Y1 += 0.00000961358 * Math.cos(4.02278025887 + 529.6909650946 * t);
-        Y1 += 0.00000821120 * Math.cos(3.17476992262 + 223.5940361765 * t);
-        Y1 += 0.00000663718 * Math.cos(5.44560261113 + 742.9900605326 * t);
-        Y1 += 0.00000690028 * Math.cos(5.48656808690 + 88.865680217 * t);
-        Y1 += 0.00000816193 * Math.cos(4.73301735835 + 21.3406410024 * t);
-        Y1 += 0.00000711521 * Math.cos(4.54955689543 + 430.5303441391 * t);
-        Y1 += 0.00000698870 * Math.cos(4.56691908682 + 302.164775655 * t);
-        Y1 += 0.00000536606 * Math.cos(4.99753895831 + 1059.3819301892 * t);
-        Y1 += 0.00000597583 * Math.cos(3.52687187533 + 124.433415221 * t);
-        Y1 += 0.00000471839 * Math.cos(2.03826977441 + 654.1243803156 * t);
-        Y1 += 0.00000479853 * Math.cos(4.85897867518 + 203.0041546995 * t);
-        Y1 += 0.00000516670 * Math.cos(5.88132040654 + 735.8765135318 * t);
-        Y1 += 0.00000402498 * Math.cos(2.85466690529 + 85.8272988312 * t);
-        Y1 += 0.00000403624 * Math.cos(2.71139052784 + 515.463871093 * t);
-        Y1 += 0.00000376986 * Math.cos(2.14076396290 + 76.2660712756 * t);
-        Y1 += 0.00000380146 * Math.cos(4.42849645888 + 191.9584544356 * t);
-        Y1 += 0.00000329385 * Math.cos(2.25090412205 + 1155.361157407 * t);
-        Y1 += 0.00000339777 * Math.cos(1.16732337173 + 217.964961884 * t);
-        Y1 += 0.00000304932 * Math.cos(4.89664555631 + 231.4583427027 * t);
-        Y1 += 0.00000313279 * Math.cos(0.79690491776 + 628.8515860501 * t);
-        Y1 += 0.00000312508 * Math.cos(3.52860936096 + 942.062061969 * t);
-        Y1 += 0.00000299967 * Math.cos(0.58486918119 + 208.633228992 * t);
-        Y1 += 0.00000271553 * Math.cos(1.13380715292 + 288.0806940053 * t);
-        Y1 += 0.00000261665 * Math.cos(5.58043800182 + 18.1592472647 * t);
-        Y1 += 0.00000336751 * Math.cos(1.51006955238 + 203.7378678824 * t);
-        Y1 += 0.00000259741 * Math.cos(4.42049959331 + 10.2949407385 * t);
-        Y1 += 0.00000263792 * Math.cos(1.98500737829 + 362.8622925726 * t);
-        Y1 += 0.00000288998 * Math.cos(1.62421296562 + 728.762966531 * t);
-        Y1 += 0.00000292480 * Math.cos(0.24003627114 + 222.8603229936 * t);
-        Y1 += 0.00000213893 * Math.cos(4.46025867511 + 207.8824694666 * t);
-        Y1 += 0.00000230876 * Math.cos(5.80645007490 + 949.1756089698 * t);
-        Y1 += 0.00000208106 * Math.cos(3.59333007773 + 218.7157214094 * t);
-        Y1 += 0.00000208355 * Math.cos(2.79392574025 + 408.4389436113 * t);
-        Y1 += 0.00000212226 * Math.cos(0.51516577794 + 138.5174968707 * t);
-        Y1 += 0.00000195753 * Math.cos(1.92286511963 + 52.6901980395 * t);
-        Y1 += 0.00000194622 * Math.cos(5.15592319826 + 340.7708920448 * t);
-        Y1 += 0.00000194009 * Math.cos(4.64002206209 + 200.7689224658 * t);
-        Y1 += 0.00000169514 * Math.cos(5.90010865240 + 350.3321196004 * t);
-        Y1 += 0.00000167903 * Math.cos(3.43165870674 + 225.8292684102 * t);
-        Y1 += 0.00000165942 * Math.cos(2.65915928084 + 831.8557407496 * t);
-        Y1 += 0.00000177511 * Math.cos(3.37006150668 + 210.3783341312 * t);
-        Y1 += 0.00000177822 * Math.cos(4.64970159848 + 216.2198567448 * t);
-        Y1 += 0.00000160353 * Math.cos(0.38234469263 + 195.1398481733 * t);
-        Y1 += 0.00000163772 * Math.cos(4.33810904454 + 956.2891559706 * t);
-        Y1 += 0.00000145034 * Math.cos(5.01521877128 + 9.5612275556 * t);
-        Y1 += 0.00000178118 * Math.cos(4.70008509025 + 160.6088973985 * t);
-        Y1 += 0.00000170270 * Math.cos(1.06169886425 + 207.6700211455 * t);
-        Y1 += 0.00000151139 * Math.cos(1.56897925752 + 635.9651330509 * t);
-        Y1 += 0.00000137032 * Math.cos(2.94671384771 + 543.9180590962 * t);
-        Y1 += 0.00000163974 * Math.cos(0.66806989122 + 218.9281697305 * t);
-        Y1 += 0.00000136838 * Math.cos(1.98352486919 + 1471.7530270636 * t);
-        Y1 += 0.00000164874 * Math.cos(3.04584528801 + 22.0914005278 * t);
-        Y1 += 0.00000134654 * Math.cos(5.96927335823 + 703.6331846174 * t);
-        Y1 += 0.00000151556 * Math.cos(3.67396623947 + 127.4717966068 * t);
-        Y1 += 0.00000153277 * Math.cos(5.85394341815 + 56.6223513026 * t);
-        Y1 += 0.00000131057 * Math.cos(2.45918482900 + 750.1036075334 * t);
-        Y1 += 0.00000135752 * Math.cos(3.20181584059 + 1258.4539316256 * t);
-        Y1 += 0.00000124428 * Math.cos(2.71560761485 + 447.9388318784 * t);
-        Y1 += 0.00000135909 * Math.cos(2.82497232885 + 142.4496501338 * t);
-        Y1 += 0.00000137107 * Math.cos(5.58034331705 + 490.3340891794 * t);
-        Y1 += 0.00000108222 * Math.cos(1.17614128037 + 565.1156877467 * t);
-        Y1 += 0.00000122931 * Math.cos(1.28638505576 + 483.2205421786 * t);
-        Y1 += 0.00000105358 * Math.cos(2.01086087701 + 209.106309744 * t);
-        Y1 += 0.00000105077 * Math.cos(6.01394978397 + 217.491881132 * t);
-        Y1 += 0.00000123632 * Math.cos(0.14236071000 + 12.5301729722 * t);
-        Y1 += 0.00000098664 * Math.cos(5.98315192678 + 1279.794572628 * t);
-        Y1 += 0.00000099879 * Math.cos(6.14263241146 + 1265.5674786264 * t);
-        Y1 += 0.00000117145 * Math.cos(1.93408241498 + 269.9214467406 * t);
-        Y1 += 0.00000107531 * Math.cos(0.47701573313 + 424.1505103212 * t);
-        Y1 += 0.00000105031 * Math.cos(1.46162172146 + 1045.1548361876 * t);
-        Y1 += 0.00000128853 * Math.cos(4.09081439424 + 618.5566453116 * t);
-        Y1 += 0.00000092818 * Math.cos(4.72229184481 + 70.8494453042 * t);
-        Y1 += 0.00000088419 * Math.cos(0.52765914901 + 1073.6090241908 * t);
-        Y1 += 0.00000109631 * Math.cos(3.58034902833 + 265.9892934775 * t);
-        Y1 += 0.00000084025 * Math.cos(4.60150990218 + 113.3877149571 * t);
-        Y1 += 0.00000091314 * Math.cos(0.73720537017 + 497.4476361802 * t);
-        Y1 += 0.00000080531 * Math.cos(3.13922825011 + 650.9429865779 * t);
-        Y1 += 0.00000082305 * Math.cos(1.71469351335 + 643.0786800517 * t);
-        Y1 += 0.00000072994 * Math.cos(2.40916079132 + 1148.2476104062 * t);
-        Y1 += 0.00000079808 * Math.cos(4.98284118355 + 106.2741679563 * t);
-        Y1 += 0.00000070939 * Math.cos(0.83631473279 + 251.4321310758 * t);
-        Y1 += 0.00000076736 * Math.cos(6.18128713604 + 284.1485407422 * t);
-        Y1 += 0.00000084108 * Math.cos(0.20089720996 + 219.4494345923 * t);
-        Y1 += 0.00000067694 * Math.cos(3.29161643533 + 636.7158925763 * t);
-        Y1 += 0.00000068746 * Math.cos(1.72448117794 + 191.2076949102 * t);
-        Y1 += 0.00000067011 * Math.cos(6.07534735470 + 107.0249274817 * t);
-        Y1 += 0.00000073484 * Math.cos(2.75710156454 + 344.7030453079 * t);
-        Y1 += 0.00000060209 * Math.cos(3.59292747590 + 479.2883889155 * t);
-        Y1 += 0.00000059886 * Math.cos(1.72462101125 + 1788.1448967202 * t);
-        Y1 += 0.00000062163 * Math.cos(1.26204471880 + 74.7815985673 * t);
-        Y1 += 0.00000063039 * Math.cos(2.40834438410 + 436.8931316145 * t);
-        Y1 += 0.00000063642 * Math.cos(2.90623173294 + 1574.8458012822 * t);
-        Y1 += 0.00000061779 * Math.cos(0.47658912543 + 1375.7737998458 * t);
-        Y1 += 0.00000063067 * Math.cos(2.25783021871 + 358.9301393095 * t);
-        Y1 += 0.00000056656 * Math.cos(2.85346867563 + 98.8999885246 * t);
-        Y1 += 0.00000065944 * Math.cos(1.58727020558 + 207.1487562837 * t);
-        Y1 += 0.00000058621 * Math.cos(2.69431743641 + 417.0369633204 * t);
-        Y1 += 0.00000054845 * Math.cos(3.63305913358 + 416.3032501375 * t);
-        Y1 += 0.00000063898 * Math.cos(0.41807886669 + 235.3904959658 * t);
-        Y1 += 0.00000051983 * Math.cos(0.98560774735 + 175.1660598002 * t);
-        Y1 += 0.00000052017 * Math.cos(0.44065942413 + 220.4608265486 * t);
-        Y1 += 0.00000051724 * Math.cos(5.97173973786 + 1581.959348283 * t);
-        Y1 += 0.00000066519 * Math.cos(2.96087412556 + 337.732510659 * t);
-        Y1 += 0.00000052203 * Math.cos(6.26845412867 + 121.2520214833 * t);
-        Y1 += 0.00000047109 * Math.cos(0.39163135029 + 351.8165923087 * t);
-        Y1 += 0.00000050400 * Math.cos(6.23334046215 + 429.0458714308 * t);
-        Y1 += 0.00000048559 * Math.cos(1.51448413753 + 151.0476698429 * t);
-        Y1 += 0.00000048966 * Math.cos(5.37445400062 + 114.1384744825 * t);
-        Y1 += 0.00000049995 * Math.cos(1.08980573833 + 181.0557665236 * t);
-        Y1 += 0.00000052992 * Math.cos(2.37357973686 + 4.665866446 * t);
-        Y1 += 0.00000059382 * Math.cos(5.89999712269 + 1052.2683831884 * t);
-        Y1 += 0.00000051283 * Math.cos(5.32818158756 + 554.0699874828 * t);
-        Y1 += 0.00000051115 * Math.cos(3.63154677592 + 934.9485149682 * t);
-        Y1 += 0.00000048930 * Math.cos(0.61944877126 + 245.5424243524 * t);
-        Y1 += 0.00000051548 * Math.cos(1.76530266580 + 1162.4747044078 * t);
-        Y1 += 0.00000041901 * Math.cos(5.63603975380 + 81.7521332162 * t);
-        Y1 += 0.00000044083 * Math.cos(0.68386602503 + 205.2223405907 * t);
-        Y1 += 0.00000040580 * Math.cos(1.25223435843 + 867.4234757536 * t);
-        Y1 += 0.00000040978 * Math.cos(2.17727067387 + 621.7380390493 * t);
-        Y1 += 0.00000052199 * Math.cos(5.22313624591 + 404.5067903482 * t);
-        Y1 += 0.00000038938 * Math.cos(2.88746633845 + 131.5469622218 * t);
-        Y1 += 0.00000041367 * Math.cos(1.28036571274 + 1361.5467058442 * t);
-        Y1 += 0.00000036570 * Math.cos(0.31823772130 + 148.0787244263 * t);
-        Y1 += 0.00000036297 * Math.cos(4.09378541509 + 444.7574381407 * t);
-        Y1 += 0.00000036204 * Math.cos(1.17922364807 + 214.0498549634 * t);
-        Y1 += 0.00000040865 * Math.cos(4.28623605561 + 643.8294395771 * t);
-        Y1 += 0.00000045475 * Math.cos(0.40542517807 + 842.1506814881 * t);
-        Y1 += 0.00000034507 * Math.cos(2.15105522201 + 1464.6394800628 * t);
-        Y1 += 0.00000034261 * Math.cos(1.30832375393 + 289.5651667136 * t);
-        Y1 += 0.00000036821 * Math.cos(1.40746404714 + 206.1373643274 * t);
-        Y1 += 0.00000035277 * Math.cos(4.79548581950 + 295.0512286542 * t);
-        Y1 += 0.00000038754 * Math.cos(0.95034448968 + 198.321241911 * t);
-        Y1 += 0.00000033004 * Math.cos(3.66317254626 + 177.8743727859 * t);
-        Y1 += 0.00000032822 * Math.cos(0.62395825570 + 212.5483359126 * t);
-        Y1 += 0.00000037519 * Math.cos(0.81273995929 + 228.276948965 * t);
-        Y1 += 0.00000037557 * Math.cos(5.13340900254 + 1589.0728952838 * t);
-        Y1 += 0.00000032161 * Math.cos(0.23596694801 + 275.5505210331 * t);
-        Y1 += 0.00000029162 * Math.cos(4.35941497066 + 248.7238180901 * t);
-        Y1 += 0.00000031052 * Math.cos(2.62522341734 + 1891.2376709388 * t);
-        Y1 += 0.00000029408 * Math.cos(2.76130529869 + 78.7137518304 * t);
-        Y1 += 0.00000033254 * Math.cos(3.46044658988 + 405.2575498736 * t);
-        Y1 += 0.00000035352 * Math.cos(0.80858694073 + 501.3797894433 * t);
-        Y1 += 0.00000032207 * Math.cos(1.65110353191 + 414.0680179038 * t);
-        Y1 += 0.00000026802 * Math.cos(1.48913028184 + 2104.5367663768 * t);
-        Y1 += 0.00000033504 * Math.cos(5.75755276401 + 436.1594184316 * t);
-        Y1 += 0.00000027476 * Math.cos(2.28916318049 + 114.3991069134 * t);
-        Y1 += 0.00000029375 * Math.cos(4.14201483171 + 214.7835681463 * t);
-        Y1 += 0.00000027350 * Math.cos(4.28960125311 + 355.7487455718 * t);
-        Y1 += 0.00000024664 * Math.cos(2.99088916204 + 427.5613987225 * t);
-        Y1 += 0.00000027145 * Math.cos(0.31547938457 + 1692.1656695024 * t);
-        Y1 += 0.00000032108 * Math.cos(1.41888247706 + 1478.8665740644 * t);
-        Y1 += 0.00000031458 * Math.cos(0.97131994074 + 32.2433289144 * t);
-        Y1 += 0.00000024545 * Math.cos(5.69075638662 + 1898.3512179396 * t);
-        Y1 += 0.00000023644 * Math.cos(1.44198198532 + 278.5194664497 * t);
-        Y1 += 0.00000024790 * Math.cos(4.17753953454 + 99.1606209555 * t);
-        Y1 += 0.00000024810 * Math.cos(5.54564487364 + 425.6349830295 * t);
-        Y1 += 0.00000023968 * Math.cos(0.36677339015 + 431.264057322 * t);
-        Y1 += 0.00000025471 * Math.cos(2.45870689530 + 69.1525242748 * t);
-        Y1 += 0.00000022253 * Math.cos(1.40400187528 + 601.7642506762 * t);
-        Y1 += 0.00000021879 * Math.cos(5.82469648186 + 5.4166259714 * t);
-        Y1 += 0.00000021821 * Math.cos(2.16944144639 + 299.1263942692 * t);
-        Y1 += 0.00000022180 * Math.cos(3.69514971843 + 313.2104759189 * t);
-        Y1 += 0.00000021267 * Math.cos(5.26614913504 + 916.9322800554 * t);
-        Y1 += 0.00000022381 * Math.cos(1.28311915565 + 576.1613880106 * t);
-        Y1 += 0.00000020789 * Math.cos(3.29258683166 + 241.7532834412 * t);
-        Y1 += 0.00000024965 * Math.cos(3.35942036955 + 1251.3403846248 * t);
-        Y1 += 0.00000020940 * Math.cos(2.47050974766 + 319.5732633943 * t);
-        Y1 += 0.00000024097 * Math.cos(1.29392903774 + 39.3568759152 * t);
-        Y1 += 0.00000020886 * Math.cos(4.29751388593 + 1169.5882514086 * t);
-        Y1 += 0.00000021598 * Math.cos(3.88492023488 + 320.3240229197 * t);
-        Y1 += 0.00000025319 * Math.cos(5.93722822520 + 421.93232443 * t);
-        Y1 += 0.00000023120 * Math.cos(2.90337843385 + 230.7075831773 * t);
-        Y1 += 0.00000021611 * Math.cos(3.34376918112 + 312.4597163935 * t);
-        Y1 += 0.00000021367 * Math.cos(3.99569581578 + 327.4375699205 * t);
-        Y1 += 0.00000019225 * Math.cos(6.20390272094 + 63.7358983034 * t);
-        Y1 += 0.00000020375 * Math.cos(5.87114204897 + 426.6463749858 * t);
-        Y1 += 0.00000021067 * Math.cos(3.32303268835 + 421.1815649046 * t);
-        Y1 += 0.00000021170 * Math.cos(1.20539648133 + 221.3758502853 * t);
-        Y1 += 0.00000019320 * Math.cos(6.19416200591 + 188.9200730498 * t);
-        Y1 += 0.00000018160 * Math.cos(3.80256648237 + 205.4347889118 * t);
-        Y1 += 0.00000017830 * Math.cos(5.89469972322 + 120.358249606 * t);
-        Y1 += 0.00000016895 * Math.cos(1.87814122042 + 1781.0313497194 * t);
-        Y1 += 0.00000016566 * Math.cos(2.77861088408 + 508.3503240922 * t);
-        Y1 += 0.00000016563 * Math.cos(4.08679914102 + 134.5853436076 * t);
-        Y1 += 0.00000016458 * Math.cos(2.73725981634 + 439.1283638482 * t);
-        Y1 += 0.00000018272 * Math.cos(5.18806803729 + 6275.9623029906 * t);
-        Y1 += 0.00000016078 * Math.cos(0.35327615385 + 778.4147831847 * t);
-        Y1 += 0.00000016691 * Math.cos(1.09332093320 + 1677.9385755008 * t);
-        Y1 += 0.00000017811 * Math.cos(4.60507339479 + 6290.1893969922 * t);
-        Y1 += 0.00000018693 * Math.cos(3.79915612503 + 211.8146227297 * t);
-        Y1 += 0.00000015558 * Math.cos(1.80190957772 + 333.657345044 * t);
-        Y1 += 0.00000017965 * Math.cos(3.08971573736 + 14.977853527 * t);
-        Y1 += 0.00000017164 * Math.cos(0.32859484938 + 10206.1719992102 * t);
-        Y1 += 0.00000016429 * Math.cos(2.35675032601 + 2207.6295405954 * t);
-        Y1 += 0.00000019617 * Math.cos(0.46012011083 + 696.5196376166 * t);
-        Y1 += 0.00000020378 * Math.cos(2.67260865639 + 426.5500067662 * t);
-        Y1 += 0.00000016720 * Math.cos(6.02943216083 + 10220.3990932118 * t);
-        Y1 += 0.00000018307 * Math.cos(4.61706941936 + 166.828672522 * t);
-        Y1 += 0.00000015744 * Math.cos(1.88003442344 + 237.6781178262 * t);
-        Y1 += 0.00000014844 * Math.cos(1.57837518408 + 92.0470739547 * t);
-        Y1 += 0.00000015127 * Math.cos(6.22734841918 + 710.7467316182 * t);
-        Y1 += 0.00000013896 * Math.cos(4.68914749586 + 525.4981794006 * t);
-        Y1 += 0.00000018459 * Math.cos(1.12369510709 + 1795.258443721 * t);
-        Y1 += 0.00000015871 * Math.cos(3.68232724320 + 182.279606801 * t);
-        Y1 += 0.00000014181 * Math.cos(5.76892575123 + 312.1990839626 * t);
-        Y1 += 0.00000013039 * Math.cos(1.86499285810 + 87.3117715395 * t);
-        Y1 += 0.00000013054 * Math.cos(3.33806013415 + 196.0336200506 * t);
-        Y1 += 0.00000014553 * Math.cos(2.98023672350 + 381.3516082374 * t);
-        Y1 += 0.00000017110 * Math.cos(6.00385352506 + 432.2272651685 * t);
-        Y1 += 0.00000012749 * Math.cos(1.26043486960 + 2420.9286360334 * t);
-        Y1 += 0.00000013372 * Math.cos(2.17443872737 + 59.8037450403 * t);
-        Y1 += 0.00000015239 * Math.cos(3.75258625939 + 429.5189521828 * t);
-        Y1 += 0.00000012464 * Math.cos(2.22284574501 + 757.2171545342 * t);
-        Y1 += 0.00000012205 * Math.cos(1.93673309903 + 661.2379273164 * t);
-        Y1 += 0.00000014070 * Math.cos(2.49267619933 + 395.578702239 * t);
-        Y1 += 0.00000013577 * Math.cos(4.88645694646 + 96.8729990951 * t);
-        Y1 += 0.00000012848 * Math.cos(1.86448207878 + 305.3461693927 * t);
-        Y1 += 0.00000013100 * Math.cos(0.85481187046 + 849.2642284889 * t);
-        Y1 += 0.00000013949 * Math.cos(1.75148537427 + 116.4260963429 * t);
-        Y1 += 0.00000011819 * Math.cos(5.25276003174 + 430.79097657 * t);
-        Y1 += 0.00000016372 * Math.cos(3.64373381700 + 1272.6810256272 * t);
-        Y1 += 0.00000013084 * Math.cos(6.21897330504 + 129.9194771616 * t);
-        Y1 += 0.00000012158 * Math.cos(4.26700103392 + 373.9079928365 * t);
-        Y1 += 0.00000011809 * Math.cos(5.43652749359 + 2214.7430875962 * t);
-        Y1 += 0.00000013442 * Math.cos(3.06902780273 + 1567.7322542814 * t);
-        Y1 += 0.00000011229 * Math.cos(4.64413388000 + 230.5645708254 * t);
-        Y1 += 0.00000013500 * Math.cos(4.36062336832 + 196.6243208816 * t);
-        Y1 += 0.00000011166 * Math.cos(0.07959909309 + 776.9303104764 * t);
-        Y1 += 0.00000010671 * Math.cos(4.02549503966 + 426.0769260142 * t);
-        Y1 += 0.00000013925 * Math.cos(1.76313918148 + 558.0021407459 * t);
-        Y1 += 0.00000010673 * Math.cos(4.24959203585 + 221.1634019642 * t);
-        Y1 += 0.00000011528 * Math.cos(3.24851110875 + 432.0148168474 * t);
-        Y1 += 0.00000011815 * Math.cos(0.09299240001 + 2008.557539159 * t);
-        Y1 += 0.00000011593 * Math.cos(3.42150881999 + 5849.3641121146 * t);
-        Y1 += 0.00000010706 * Math.cos(5.32683313201 + 84.3428261229 * t);
-        Y1 += 0.00000010726 * Math.cos(5.88519609344 + 192.6921676185 * t);
-        Y1 += 0.00000010230 * Math.cos(5.88162921381 + 199.2844497575 * t);
-        Y1 += 0.00000010068 * Math.cos(6.07595102211 + 206.706813299 * t);
-        Y1 += 0.00000010345 * Math.cos(5.08478659317 + 20.6069278195 * t);
-        Y1 += 0.00000009919 * Math.cos(2.32998042308 + 280.9671470045 * t);
-        Y1 += 0.00000010417 * Math.cos(2.54605028348 + 343.2185725996 * t);
-        Y1 += 0.00000011215 * Math.cos(4.78008790757 + 153.4953503977 * t);
-        Y1 += 0.00000010915 * Math.cos(1.22365424726 + 199.9657733137 * t);
-        Y1 += 0.00000010352 * Math.cos(2.85293177879 + 145.6310438715 * t);
-        Y1 += 0.00000009672 * Math.cos(4.70950839637 + 238.5718897035 * t);
-        Y1 += 0.00000011766 * Math.cos(4.65102517362 + 28.4541880032 * t);
-        Y1 += 0.00000009860 * Math.cos(1.31027229484 + 572.2292347475 * t);
-        Y1 += 0.00000010848 * Math.cos(4.84797546300 + 9779.5738083342 * t);
-        Y1 += 0.00000009609 * Math.cos(1.77311660543 + 181.806526049 * t);
-        Y1 += 0.00000009746 * Math.cos(3.38579212893 + 184.9879197867 * t);
-        Y1 += 0.00000009655 * Math.cos(5.39671219074 + 767.3690829208 * t);
-        Y1 += 0.00000011807 * Math.cos(3.76535437114 + 62.2514255951 * t);
-        Y1 += 0.00000009779 * Math.cos(0.88460460264 + 188.1693135244 * t);
-        Y1 += 0.00000010712 * Math.cos(4.51706019623 + 427.1194557378 * t);
-        Y1 += 0.00000011504 * Math.cos(4.56344934969 + 144.1465711632 * t);
-        Y1 += 0.00000009586 * Math.cos(0.45566717751 + 159.1244246902 * t);
-        Y1 += 0.00000009203 * Math.cos(2.73073415990 + 214.5711198252 * t);
-        Y1 += 0.00000009203 * Math.cos(5.30048466028 + 212.0270710508 * t);
-        Y1 += 0.00000010497 * Math.cos(6.17177980486 + 41.6444977756 * t);
-        Y1 += 0.00000009370 * Math.cos(2.14963964190 + 227.3137411185 * t);
-        Y1 += 0.00000012234 * Math.cos(6.18809205263 + 563.6312150384 * t);
-        Y1 += 0.00000010237 * Math.cos(4.28152767419 + 244.318584075 * t);
-        Y1 += 0.00000011381 * Math.cos(6.15512821138 + 156.6767441354 * t);
-        Y1 += 0.00000010107 * Math.cos(2.87828198451 + 5863.5912061162 * t);
-        Y1 += 0.00000010043 * Math.cos(0.52437948083 + 226.6324175623 * t);
-        Y1 += 0.00000009156 * Math.cos(5.02396736289 + 617.8058857862 * t);
-        Y1 += 0.00000008851 * Math.cos(2.89832546376 + 51.2057253312 * t);
-        Y1 += 0.00000010085 * Math.cos(3.30668269779 + 259.769518354 * t);
-        Y1 += 0.00000008596 * Math.cos(1.23210897186 + 546.956440482 * t);
-        Y1 += 0.00000009008 * Math.cos(5.89790029935 + 637.4496057592 * t);
-        Y1 += 0.00000008925 * Math.cos(2.22929558479 + 233.9060232575 * t);
-        Y1 += 0.00000009667 * Math.cos(3.38327802047 + 326.6868103951 * t);
-        Y1 += 0.00000011698 * Math.cos(4.17938557250 + 45.5766510387 * t);
-        Y1 += 0.00000008767 * Math.cos(5.40542030217 + 472.1748419147 * t);
-        Y1 += 0.00000008663 * Math.cos(1.30416402722 + 267.4737661858 * t);
-        Y1 += 0.00000009447 * Math.cos(4.30430679634 + 9793.8009023358 * t);
-        Y1 += 0.00000010188 * Math.cos(5.69390908773 + 347.8844390456 * t);
-        Y1 += 0.00000008373 * Math.cos(4.61083828197 + 241.6102710893 * t);
-        Y1 += 0.00000008254 * Math.cos(1.61618489394 + 963.4027029714 * t);
-        Y1 += 0.00000008240 * Math.cos(1.57545403896 + 2097.423219376 * t);
-        Y1 += 0.00000009192 * Math.cos(1.67959848745 + 556.5176680376 * t);
-        Y1 += 0.00000008029 * Math.cos(0.00151886179 + 244.791664827 * t);
-        Y1 += 0.00000010377 * Math.cos(0.86654919644 + 212.4053235607 * t);
-        Y1 += 0.00000010377 * Math.cos(0.88148431656 + 214.1928673153 * t);
-        Y1 += 0.00000009461 * Math.cos(4.03836049759 + 46.470422916 * t);
-        Y1 += 0.00000009061 * Math.cos(1.15906814795 + 206.233732547 * t);
-        Y1 += 0.00000010521 * Math.cos(0.59635443681 + 92.940845832 * t);
-        Y1 += 0.00000010476 * Math.cos(1.26991698072 + 65.2203710117 * t);
-        Y1 += 0.00000008413 * Math.cos(2.05836489461 + 2524.021410252 * t);
-        Y1 += 0.00000010716 * Math.cos(0.83453298030 + 2111.6503133776 * t);
-        Y1 += 0.00000008001 * Math.cos(2.82221595266 + 824.7421937488 * t);
-        Y1 += 0.00000008685 * Math.cos(3.73032890348 + 220.364458329 * t);
-        Y1 += 0.00000008026 * Math.cos(0.76761905754 + 238.4288773516 * t);
-        Y1 += 0.00000008554 * Math.cos(0.97000952694 + 137.0330241624 * t);
-        Y1 += 0.00000008060 * Math.cos(2.81448650265 + 60.7669528868 * t);
-        Y1 += 0.00000008882 * Math.cos(4.25154684026 + 486.4019359163 * t);
-        Y1 += 0.00000007091 * Math.cos(2.89138411937 + 692.5874843535 * t);
-        Y1 += 0.00000007076 * Math.cos(6.22401435166 + 464.7312265138 * t);
-        Y1 += 0.00000007187 * Math.cos(2.33756820807 + 864.2420820159 * t);
-        Y1 += 0.00000007117 * Math.cos(4.20299838678 + 282.4516197128 * t);
-        Y1 += 0.00000007014 * Math.cos(1.65943646852 + 627.3671133418 * t);
-        Y1 += 0.00000006953 * Math.cos(6.15878720133 + 339.2864193365 * t);
-        Y1 += 0.00000007646 * Math.cos(1.01232502313 + 173.9422195228 * t);
-        Y1 += 0.00000006921 * Math.cos(6.10093552816 + 357.4456666012 * t);
-        Y1 += 0.00000007299 * Math.cos(2.37883439450 + 458.8415197904 * t);
-        Y1 += 0.00000006892 * Math.cos(3.52379592646 + 77.962992305 * t);
-        Y1 += 0.00000008038 * Math.cos(0.12694546060 + 258.8757464767 * t);
-        Y1 += 0.00000008011 * Math.cos(1.91772033476 + 23.5758732361 * t);
-        Y1 += 0.00000006648 * Math.cos(6.02715969637 + 1286.9081196288 * t);
-        Y1 += 0.00000006661 * Math.cos(6.15191523027 + 561.1835344836 * t);
-        Y1 += 0.00000008707 * Math.cos(3.94168949686 + 67.6680515665 * t);
-        Y1 += 0.00000006819 * Math.cos(2.74418471990 + 131.4039498699 * t);
-        Y1 += 0.00000006518 * Math.cos(4.64724104258 + 638.4128136057 * t);
-        Y1 += 0.00000008064 * Math.cos(2.11600429776 + 526.5095713569 * t);
-        Y1 += 0.00000007597 * Math.cos(2.99211484721 + 186.472392495 * t);
-        Y1 += 0.00000006426 * Math.cos(1.27546614194 + 193.655375465 * t);
-        Y1 += 0.00000006413 * Math.cos(5.28516632111 + 1493.093668066 * t);
-        Y1 += 0.00000007070 * Math.cos(1.11516171811 + 570.7447620392 * t);
-        Y1 += 0.00000006371 * Math.cos(1.52403837626 + 518.6452648307 * t);
-        Y1 += 0.00000006300 * Math.cos(5.98089525933 + 411.620337349 * t);
-        Y1 += 0.00000007215 * Math.cos(2.75216423983 + 1884.124123938 * t);
-        Y1 += 0.00000006216 * Math.cos(0.45259148972 + 171.6545976624 * t);
-        Y1 += 0.00000006289 * Math.cos(0.94099317701 + 1994.3304451574 * t);
-        Y1 += 0.00000006124 * Math.cos(0.98855335752 + 2737.32050569 * t);
-        Y1 += 0.00000007637 * Math.cos(1.81450375930 + 295.1942410061 * t);
-        Y1 += 0.00000006170 * Math.cos(6.02456387142 + 128.9562693151 * t);
-        Y1 += 0.00000006476 * Math.cos(5.91738580780 + 532.8723588323 * t);
-        Y1 += 0.00000006540 * Math.cos(4.88945975145 + 1485.9801210652 * t);
-        Y1 += 0.00000005995 * Math.cos(5.17469821167 + 334.5511169213 * t);
-        Y1 += 0.00000006129 * Math.cos(3.39549331521 + 211.0114735776 * t);
-        Y1 += 0.00000006129 * Math.cos(4.63572550497 + 215.5867172984 * t);
-        Y1 += 0.00000007666 * Math.cos(5.59618234503 + 81.8951455681 * t);
-        Y1 += 0.00000007108 * Math.cos(6.27572187728 + 427.3489504014 * t);
-        Y1 += 0.00000005857 * Math.cos(2.99507812756 + 543.0242872189 * t);
-        Y1 += 0.00000008076 * Math.cos(5.35159389958 + 195.8906076987 * t);
-        Y1 += 0.00000005703 * Math.cos(4.89941145086 + 274.0660483248 * t);
-        Y1 += 0.00000005904 * Math.cos(5.14907268147 + 2531.1349572528 * t);
-        Y1 += 0.00000006470 * Math.cos(3.68404764620 + 162.0933701068 * t);
-        Y1 += 0.00000005632 * Math.cos(5.49833678714 + 54.1746707478 * t);
-        Y1 += 0.00000007029 * Math.cos(4.25905954762 + 329.7251917809 * t);
-        Y1 += 0.00000006286 * Math.cos(5.65267510028 + 432.7485300303 * t);
-        Y1 += 0.00000007824 * Math.cos(3.36686887016 + 99.9113804809 * t);
-        Y1 += 0.00000007307 * Math.cos(4.01074770863 + 611.4430983108 * t);
-        Y1 += 0.00000005905 * Math.cos(0.93769875191 + 856.3777754897 * t);
-        Y1 += 0.00000005596 * Math.cos(4.20350967343 + 31.019488637 * t);
-        Y1 += 0.00000006762 * Math.cos(0.70345352932 + 420.9691165835 * t);
-        Y1 += 0.00000005918 * Math.cos(2.28750450549 + 422.405405182 * t);
-        Y1 += 0.00000006723 * Math.cos(4.90771973158 + 240.125798381 * t);
-        Y1 += 0.00000005461 * Math.cos(2.66176789006 + 342.2553647531 * t);
-        Y1 += 0.00000006291 * Math.cos(3.22636360944 + 423.6774295692 * t);
-        Y1 += 0.00000005758 * Math.cos(1.74985736492 + 835.0371344873 * t);
-        Y1 += 0.00000005148 * Math.cos(5.92672676710 + 488.8496164711 * t);
-        Y1 += 0.00000005052 * Math.cos(0.43140093037 + 24.3790223882 * t);
-        Y1 += 0.00000006211 * Math.cos(2.76152708645 + 107.7586406646 * t);
-        Y1 += 0.00000005821 * Math.cos(0.00832108907 + 1055.4497769261 * t);
-        Y1 += 0.00000004859 * Math.cos(0.64868543868 + 29.2049475286 * t);
-        Y1 += 0.00000004775 * Math.cos(6.16871863280 + 394.3548619616 * t);
-        Y1 += 0.00000006172 * Math.cos(4.62085119316 + 125.9873238985 * t);
-        Y1 += 0.00000006061 * Math.cos(0.50690771703 + 252.6559713532 * t);
-        Y1 += 0.00000004858 * Math.cos(1.81663890928 + 33.9402499438 * t);
-        Y1 += 0.00000004624 * Math.cos(1.30283755067 + 533.6231183577 * t);
-        Y1 += 0.00000005004 * Math.cos(1.63967789274 + 650.1922270525 * t);
-        Y1 += 0.00000004646 * Math.cos(5.54769102219 + 291.262087743 * t);
-        Y1 += 0.00000004502 * Math.cos(2.24091054158 + 167.7224443993 * t);
-        Y1 += 0.00000005224 * Math.cos(1.12122143120 + 468.2426886516 * t);
-        Y1 += 0.00000004559 * Math.cos(0.15524505071 + 418.5214360287 * t);
-        Y1 += 0.00000004529 * Math.cos(4.09375839029 + 273.1028404783 * t);
-        Y1 += 0.00000005440 * Math.cos(0.49338802541 + 229.9738699944 * t);
-        Y1 += 0.00000004529 * Math.cos(5.00509852595 + 2118.7638603784 * t);
-        Y1 += 0.00000005826 * Math.cos(2.31670821643 + 551.031606097 * t);
-        Y1 += 0.00000006012 * Math.cos(0.53998869706 + 2428.0421830342 * t);
-        Y1 += 0.00000004308 * Math.cos(4.78508097302 + 629.6023455755 * t);
-        Y1 += 0.00000004780 * Math.cos(6.05035048896 + 2324.9494088156 * t);
-        Y1 += 0.00000004415 * Math.cos(3.50744529852 + 298.2326223919 * t);
-        Y1 += 0.00000004472 * Math.cos(5.57992516251 + 361.3778198643 * t);
-        Y1 += 0.00000004243 * Math.cos(4.90305834790 + 306.0969289181 * t);
-        Y1 += 0.00000004295 * Math.cos(4.84382185270 + 1802.3719907218 * t);
-        Y1 += 0.00000004246 * Math.cos(2.54779769462 + 1141.1340634054 * t);
-        Y1 += 0.00000004281 * Math.cos(2.96546921101 + 405.9912630565 * t);
-        Y1 += 0.00000004269 * Math.cos(3.85746519963 + 201.5196819912 * t);
-        Y1 += 0.00000004269 * Math.cos(1.03216096696 + 225.0785088848 * t);
-        Y1 += 0.00000004121 * Math.cos(3.44763524659 + 1382.8873468466 * t);
-        Y1 += 0.00000004115 * Math.cos(1.38226473702 + 2413.8150890326 * t);
-        Y1 += 0.00000004332 * Math.cos(1.78553286268 + 2840.4132799086 * t);
-        Y1 += 0.00000004392 * Math.cos(2.70520415735 + 491.8185618877 * t);
-        Y1 += 0.00000004469 * Math.cos(4.07802364782 + 428.0826635843 * t);
-        Y1 += 0.00000004813 * Math.cos(1.71682749378 + 1905.4647649404 * t);
-        Y1 += 0.00000004052 * Math.cos(3.88176872544 + 425.1137181677 * t);
-        Y1 += 0.00000004203 * Math.cos(0.84999684256 + 364.3467652809 * t);
-        Y1 += 0.00000003914 * Math.cos(5.22293191768 + 28.3111756513 * t);
-        Y1 += 0.00000003915 * Math.cos(0.63612829951 + 504.561183181 * t);
-        Y1 += 0.00000003740 * Math.cos(3.31636767466 + 658.0565335787 * t);
-        Y1 += 0.00000004998 * Math.cos(6.14567011515 + 448.6895914038 * t);
-        Y1 += 0.00000003941 * Math.cos(5.91209030576 + 433.7599219866 * t);
-        Y1 += 0.00000004487 * Math.cos(0.56012010972 + 409.9234163196 * t);
-        Y1 += 0.00000003616 * Math.cos(5.35134628835 + 292.0128472684 * t);
-        Y1 += 0.00000004140 * Math.cos(1.72820223176 + 397.3932433474 * t);
-        Y1 += 0.00000004724 * Math.cos(5.59694115939 + 205.6642835754 * t);
-        Y1 += 0.00000003566 * Math.cos(0.22715156216 + 211.6021744086 * t);
-        Y1 += 0.00000003566 * Math.cos(4.66247460443 + 214.9960164674 * t);
-        Y1 += 0.00000004241 * Math.cos(2.24122643057 + 369.9758395734 * t);
-        Y1 += 0.00000003519 * Math.cos(4.97646449150 + 33.1371007917 * t);
-        Y1 += 0.00000003509 * Math.cos(2.98078877538 + 189.7232222019 * t);
-        Y1 += 0.00000003584 * Math.cos(4.22092202807 + 77.7505439839 * t);
-        Y1 += 0.00000003460 * Math.cos(2.58166716757 + 850.0149880143 * t);
-        Y1 += 0.00000003452 * Math.cos(2.08246425974 + 732.6951197941 * t);
-        Y1 += 0.00000004527 * Math.cos(5.57565356286 + 220.9339073006 * t);
-        Y1 += 0.00000003733 * Math.cos(5.60649943194 + 465.9550667912 * t);
-        Y1 += 0.00000003963 * Math.cos(2.49682953173 + 2200.5159935946 * t);
-        Y1 += 0.00000004640 * Math.cos(4.65653142987 + 264.5048207692 * t);
-        Y1 += 0.00000004193 * Math.cos(6.01638489773 + 170.7608257851 * t);
-        Y1 += 0.00000003968 * Math.cos(3.61107686825 + 120.5012619579 * t);
-        Y1 += 0.00000003785 * Math.cos(3.46924321586 + 214.9436268407 * t);
-        Y1 += 0.00000003785 * Math.cos(4.56197560432 + 211.6545640353 * t);
-        Y1 += 0.00000003386 * Math.cos(2.94106760937 + 73.297125859 * t);
-        Y1 += 0.00000004427 * Math.cos(2.01805201614 + 254.9435932136 * t);
-        Y1 += 0.00000003319 * Math.cos(1.07445155196 + 731.9443602687 * t);
-        Y1 += 0.00000003713 * Math.cos(0.35483179852 + 203.2647871304 * t);
-        Y1 += 0.00000003713 * Math.cos(4.53479436807 + 223.3334037456 * t);
-        Y1 += 0.00000003167 * Math.cos(4.96496893225 + 201.9927627432 * t);
-        Y1 += 0.00000003167 * Math.cos(6.20784254152 + 224.6054281328 * t);
-        Y1 += 0.00000003700 * Math.cos(3.32495693901 + 170.0100662597 * t);
-        Y1 += 0.00000003091 * Math.cos(1.60504310764 + 6062.6632075526 * t);
-        Y1 += 0.00000003678 * Math.cos(6.16970207201 + 418.0001711669 * t);
-        Y1 += 0.00000003067 * Math.cos(0.89802750598 + 441.576044403 * t);
-        Y1 += 0.00000003169 * Math.cos(6.06706915544 + 92.7978334801 * t);
-        Y1 += 0.00000003999 * Math.cos(0.96003854854 + 494.2662424425 * t);
-        Y1 += 0.00000003169 * Math.cos(4.99328407843 + 2847.5268269094 * t);
-        Y1 += 0.00000003379 * Math.cos(5.48132058561 + 236.8749686741 * t);
-        Y1 += 0.00000003100 * Math.cos(4.13702546039 + 406.954470903 * t);
-        Y1 += 0.00000002898 * Math.cos(0.50716531857 + 1080.7225711916 * t);
-        Y1 += 0.00000002898 * Math.cos(3.02536240457 + 9992.8729037722 * t);
-        Y1 += 0.00000002943 * Math.cos(2.73198845165 + 255.8373650909 * t);
-        Y1 += 0.00000003935 * Math.cos(2.13947573521 + 425.8474313506 * t);
-        Y1 += 0.00000002974 * Math.cos(4.75387274036 + 184.0941479094 * t);
-        Y1 += 0.00000003187 * Math.cos(3.19934283799 + 519.3960243561 * t);
-        Y1 += 0.00000003866 * Math.cos(1.18231350391 + 388.4651552382 * t);
-        Y1 += 0.00000003337 * Math.cos(4.84172710789 + 128.3655684841 * t);
-        Y1 += 0.00000003232 * Math.cos(0.69234918409 + 55.1378785943 * t);
-        Y1 += 0.00000002974 * Math.cos(5.15832495594 + 630.3360587584 * t);
-        Y1 += 0.00000002801 * Math.cos(4.26499278042 + 84.9335269539 * t);
-        Y1 += 0.00000002747 * Math.cos(0.59959266926 + 409.1897031367 * t);
-        Y1 += 0.00000002850 * Math.cos(3.81973806384 + 220.5245170234 * t);
-        Y1 += 0.00000002747 * Math.cos(0.59415209174 + 3053.7123753466 * t);
-        Y1 += 0.00000002721 * Math.cos(4.07189880807 + 857.1285350151 * t);
-        Y1 += 0.00000003018 * Math.cos(1.90405526939 + 450.9772132642 * t);
-        Y1 += 0.00000002703 * Math.cos(2.10024434265 + 344.8460576598 * t);
-        Y1 += 0.00000002862 * Math.cos(1.66172273544 + 2221.856634597 * t);
-        Y1 += 0.00000002669 * Math.cos(0.66381570062 + 815.0633461142 * t);
-        Y1 += 0.00000003615 * Math.cos(3.07446523021 + 135.336103133 * t);
-        Y1 += 0.00000002874 * Math.cos(1.65791837564 + 58.1068240109 * t);
-        Y1 += 0.00000002765 * Math.cos(4.24403667902 + 5636.0650166766 * t);
-        Y1 += 0.00000002782 * Math.cos(4.81585990964 + 638.9340784675 * t);
-        Y1 += 0.00000002611 * Math.cos(1.05384317164 + 739.0579072695 * t);
-        Y1 += 0.00000003024 * Math.cos(6.08706149799 + 403.0223176399 * t);
-        Y1 += 0.00000002987 * Math.cos(1.95584965297 + 1685.0521225016 * t);
-        Y1 += 0.00000002545 * Math.cos(2.52803626535 + 455.0523788792 * t);
-        Y1 += 0.00000002747 * Math.cos(5.24344205402 + 6076.8903015542 * t);
-        Y1 += 0.00000002523 * Math.cos(1.46582251094 + 511.5317178299 * t);
-        Y1 += 0.00000002510 * Math.cos(2.32307245332 + 640.8604941605 * t);
-        Y1 += 0.00000002992 * Math.cos(2.81022130646 + 462.0229135281 * t);
-        Y1 += 0.00000002474 * Math.cos(6.21322173241 + 419.532827985 * t);
-        Y1 += 0.00000002639 * Math.cos(4.52480635495 + 487.3651437628 * t);
-        Y1 += 0.00000002597 * Math.cos(5.06662259586 + 426.4863162914 * t);
-        Y1 += 0.00000002429 * Math.cos(4.60328054292 + 477.8039162072 * t);
-        Y1 += 0.00000002650 * Math.cos(5.99488065652 + 398.1440028728 * t);
-        Y1 += 0.00000002819 * Math.cos(4.70626423287 + 256.5881246163 * t);
-        Y1 += 0.00000002444 * Math.cos(1.68660473943 + 420.4478517217 * t);
-        Y1 += 0.00000003165 * Math.cos(4.31988845323 + 200.5564741447 * t);
-        Y1 += 0.00000003165 * Math.cos(0.56973771336 + 226.0417167313 * t);
-        Y1 += 0.00000002712 * Math.cos(5.93555277060 + 50.4025761791 * t);
-        Y1 += 0.00000002563 * Math.cos(0.38164149001 + 10007.0999977738 * t);
-        Y1 += 0.00000002447 * Math.cos(1.54641281756 + 206.9363079626 * t);
-        Y1 += 0.00000002447 * Math.cos(3.34321334903 + 219.6618829134 * t);
-        Y1 += 0.00000002560 * Math.cos(2.60777675851 + 106.0135355254 * t);
-        Y1 += 0.00000002342 * Math.cos(5.74881935689 + 402.2191684878 * t);
-        Y1 += 0.00000002438 * Math.cos(1.28023647756 + 2730.2069586892 * t);
-        Y1 += 0.00000002829 * Math.cos(2.16589006758 + 525.7588118315 * t);
-        Y1 += 0.00000003270 * Math.cos(0.24934461993 + 714.6788848813 * t);
-        Y1 += 0.00000002615 * Math.cos(0.89208215786 + 38.1330356378 * t);
-        Y1 += 0.00000002295 * Math.cos(0.57260746210 + 502.8642621516 * t);
-        Y1 += 0.00000002279 * Math.cos(0.66039697096 + 454.9093665273 * t);
-        Y1 += 0.00000002946 * Math.cos(1.37128403088 + 739.8086667949 * t);
-        Y1 += 0.00000003102 * Math.cos(3.82184422445 + 927.8349679674 * t);
-        Y1 += 0.00000002228 * Math.cos(5.50268808814 + 593.426863398 * t);
-        Y1 += 0.00000002593 * Math.cos(0.24109780915 + 172.2452984934 * t);
-        Y1 += 0.00000002636 * Math.cos(5.01267010764 + 649.4585138696 * t);
-        Y1 += 0.00000002219 * Math.cos(5.68743660683 + 25.2727942655 * t);
-        Y1 += 0.00000002526 * Math.cos(3.82490201245 + 540.7366653585 * t);
-        Y1 += 0.00000002240 * Math.cos(2.35846114302 + 1457.525933062 * t);
-        Y1 += 0.00000002136 * Math.cos(5.80815269639 + 186.2117600641 * t);
-        Y1 += 0.00000002460 * Math.cos(3.65186422754 + 5650.2921106782 * t);
-        Y1 += 0.00000002060 * Math.cos(0.83760116573 + 2310.722314814 * t);
-        Y1 += 0.00000002152 * Math.cos(3.87784651070 + 232.942815411 * t);
-        Y1 += 0.00000002117 * Math.cos(1.42894515335 + 3156.8051495652 * t);
-        Y1 += 0.00000002115 * Math.cos(1.90666946498 + 905.8865797915 * t);
-        Y1 += 0.00000002597 * Math.cos(3.47646509433 + 426.7100654606 * t);
-        Y1 += 0.00000002201 * Math.cos(1.12610213271 + 434.6749457233 * t);
-        Y1 += 0.00000002404 * Math.cos(5.08535872369 + 9580.5018068978 * t);
-        Y1 += 0.00000002261 * Math.cos(2.54049627534 + 42.5382696529 * t);
-        Y1 += 0.00000002519 * Math.cos(3.61992656089 + 980.6681783588 * t);
-        Y1 += 0.00000001958 * Math.cos(0.51006487073 + 610.6923387854 * t);
-        Y1 += 0.00000002062 * Math.cos(2.54499257042 + 699.7010313543 * t);
-        Y1 += 0.00000001937 * Math.cos(3.50920262578 + 141.2258098564 * t);
-        Y1 += 0.00000002495 * Math.cos(4.07951736289 + 6489.2613984286 * t);
-        Y1 += 0.00000002634 * Math.cos(0.26482595016 + 2744.4340526908 * t);
-        Y1 += 0.00000001903 * Math.cos(1.86707361207 + 1049.0869894507 * t);
-        Y1 += 0.00000001940 * Math.cos(4.49422553046 + 622.4887985747 * t);
-        Y1 += 0.00000001900 * Math.cos(4.64507172866 + 271.4059194489 * t);
-        Y1 += 0.00000001918 * Math.cos(6.14933299248 + 49.5088043018 * t);
-        Y1 += 0.00000002178 * Math.cos(1.47792419376 + 254.3528923826 * t);
-        Y1 += 0.00000002055 * Math.cos(5.77388045921 + 2641.3412784722 * t);
-        Y1 += 0.00000001888 * Math.cos(5.69235432976 + 642.3449668688 * t);
-        Y1 += 0.00000002182 * Math.cos(2.85682305202 + 426.8106391971 * t);
-        Y1 += 0.00000001800 * Math.cos(2.99435673644 + 71.6002048296 * t);
-        Y1 += 0.00000001793 * Math.cos(1.85965388376 + 419.4364597654 * t);
-        Y1 += 0.00000001820 * Math.cos(1.05742317980 + 480.7728616238 * t);
-        Y1 += 0.00000002325 * Math.cos(5.50497285155 + 10419.4710946482 * t);
-        Y1 += 0.00000001779 * Math.cos(0.73316360703 + 702.1487119091 * t);
-        Y1 += 0.00000001796 * Math.cos(2.22306757146 + 240.3864308119 * t);
-        Y1 += 0.00000001974 * Math.cos(5.12102350165 + 639.9454704238 * t);
-        Y1 += 0.00000001773 * Math.cos(5.62739708151 + 990.2294059144 * t);
-        Y1 += 0.00000002017 * Math.cos(1.16455816298 + 112.6540017742 * t);
-        Y1 += 0.00000002182 * Math.cos(5.68626463817 + 426.3857425549 * t);
-        Y1 += 0.00000001732 * Math.cos(0.79114238967 + 724.8308132679 * t);
-        Y1 += 0.00000001881 * Math.cos(0.63571507861 + 1596.1864422846 * t);
-        Y1 += 0.00000001724 * Math.cos(4.80247738218 + 184.8449074348 * t);
-        Y1 += 0.00000001980 * Math.cos(4.51396179003 + 206.2974230218 * t);
-        Y1 += 0.00000001910 * Math.cos(3.04477792936 + 175.4266922311 * t);
-        Y1 += 0.00000002379 * Math.cos(2.00455891511 + 594.6507036754 * t);
-        Y1 += 0.00000001734 * Math.cos(1.82611959703 + 705.1176573257 * t);
-        Y1 += 0.00000001805 * Math.cos(5.66213272167 + 9566.2747128962 * t);
-        Y1 += 0.00000001824 * Math.cos(5.14397632587 + 420.005908737 * t);
-        Y1 += 0.00000002040 * Math.cos(2.38214203493 + 481.7360694703 * t);
-        Y1 += 0.00000002013 * Math.cos(3.83948575721 + 685.4739373527 * t);
-        Y1 += 0.00000002198 * Math.cos(1.83487758422 + 2001.4439921582 * t);
-        Y1 += 0.00000001675 * Math.cos(1.77654694925 + 2.4476805548 * t);
-        Y1 += 0.00000001830 * Math.cos(3.41713034070 + 484.7050148869 * t);
-        Y1 += 0.00000001713 * Math.cos(6.01421212418 + 457.617679513 * t);
-        Y1 += 0.00000001701 * Math.cos(4.27525315421 + 2435.155730035 * t);
-        Y1 += 0.00000001969 * Math.cos(2.11243080520 + 5165.3626887242 * t);
-        Y1 += 0.00000001666 * Math.cos(3.80593626843 + 1127.2624300768 * t);
-        Y1 += 0.00000001992 * Math.cos(1.21200285220 + 16.6747745564 * t);
-        Y1 += 0.00000001637 * Math.cos(0.37607532277 + 909.8187330546 * t);
-        Y1 += 0.00000001728 * Math.cos(1.03967609565 + 3046.5988283458 * t);
-        Y1 += 0.00000001691 * Math.cos(0.50775020289 + 789.4604834486 * t);
-        Y1 += 0.00000001633 * Math.cos(4.08902762771 + 168.0525127994 * t);
-        Y1 += 0.00000001759 * Math.cos(2.56455172887 + 721.6494195302 * t);
-        Y1 += 0.00000001786 * Math.cos(2.70265885565 + 1193.9672737968 * t);
-        Y1 += 0.00000001652 * Math.cos(1.38065256963 + 152.5321425512 * t);
-        Y1 += 0.00000001961 * Math.cos(1.77700160103 + 143.9341228421 * t);
-        Y1 += 0.00000001804 * Math.cos(4.83122115379 + 353.301065017 * t);
-        Y1 += 0.00000001646 * Math.cos(5.87987374745 + 1112.0721282287 * t);
-        Y1 += 0.00000001795 * Math.cos(1.77560607719 + 305.0855369618 * t);
-        Y1 += 0.00000001837 * Math.cos(0.16712025895 + 162.8965192589 * t);
-        Y1 += 0.00000001572 * Math.cos(6.09546987334 + 91.7864415238 * t);
-        Y1 += 0.00000001884 * Math.cos(1.44716590675 + 2317.8358618148 * t);
-        Y1 += 0.00000001947 * Math.cos(3.03979941704 + 268.4369740323 * t);
-        Y1 += 0.00000001779 * Math.cos(3.32090155293 + 3333.498879699 * t);
-        Y1 += 0.00000001734 * Math.cos(0.96745963616 + 746.9222137957 * t);
-        Y1 += 0.00000001791 * Math.cos(5.80059576545 + 624.919432787 * t);
-        Y1 += 0.00000001937 * Math.cos(3.12447835337 + 842.9014410135 * t);
-        Y1 += 0.00000001587 * Math.cos(1.53900553933 + 2538.2485042536 * t);
-        Y1 += 0.00000001726 * Math.cos(2.92947725798 + 835.7878940127 * t);
-        Y1 += 0.00000001546 * Math.cos(0.85174846193 + 258.5456780766 * t);
-        Y1 += 0.00000001736 * Math.cos(1.52298525836 + 26080.78959457339 * t);
-        Y1 += 0.00000001620 * Math.cos(0.30763317476 + 784.0438574772 * t);
-        Y1 += 0.00000001531 * Math.cos(5.96261991396 + 5216.5803728014 * t);
-        Y1 += 0.00000001871 * Math.cos(5.11950364986 + 206.0736738526 * t);
-        Y1 += 0.00000001733 * Math.cos(4.43541173951 + 1332.4847706675 * t);
-        Y1 += 0.00000001730 * Math.cos(1.14746042144 + 6069.7767545534 * t);
-        Y1 += 0.00000001506 * Math.cos(1.67495816083 + 1101.0264279648 * t);
-        Y1 += 0.00000001688 * Math.cos(2.79465260174 + 3347.7259737006 * t);
-        Y1 += 0.00000001605 * Math.cos(2.05454244503 + 487.1526954417 * t);
-        Y1 += 0.00000001633 * Math.cos(4.83727240810 + 384.0599212231 * t);
-        Y1 += 0.00000001640 * Math.cos(4.79487962143 + 774.4826299216 * t);
-        Y1 += 0.00000001591 * Math.cos(1.78350637644 + 373.0142209592 * t);
-        Y1 += 0.00000001662 * Math.cos(0.99863125096 + 26095.016688575 * t);
-        Y1 += 0.00000001446 * Math.cos(5.35692253163 + 221.8971151471 * t);
-        Y1 += 0.00000001446 * Math.cos(5.81588894214 + 204.7010757289 * t);
-        Y1 += 0.00000001554 * Math.cos(5.58405408827 + 760.25553592 * t);
-        Y1 += 0.00000001670 * Math.cos(5.24614942818 + 348.635198571 * t);
-        Y1 += 0.00000001452 * Math.cos(4.70023348372 + 1130.2313754934 * t);
-        Y1 += 0.00000001427 * Math.cos(5.56166562526 + 97.6761482472 * t);
-        Y1 += 0.00000001875 * Math.cos(0.77039124872 + 769.8167634756 * t);
-        Y1 += 0.00000001443 * Math.cos(3.07158890839 + 694.0719570618 * t);
-        Y1 += 0.00000001639 * Math.cos(3.50228669347 + 426.8588233069 * t);
-        Y1 += 0.00000001566 * Math.cos(5.31659707606 + 392.6579409322 * t);
-        Y1 += 0.00000001601 * Math.cos(1.14874732984 + 31.492569389 * t);
-        Y1 += 0.00000001904 * Math.cos(5.38085542514 + 380.12776796 * t);
-        Y1 += 0.00000001421 * Math.cos(4.90813463368 + 287.9376816534 * t);
-        Y1 += 0.00000001396 * Math.cos(1.10287761125 + 9146.790069021 * t);
-        Y1 += 0.00000001431 * Math.cos(1.66082448408 + 2833.2997329078 * t);
-        Y1 += 0.00000001885 * Math.cos(1.15755737985 + 5275.5690099436 * t);
-        Y1 += 0.00000001602 * Math.cos(2.55207628612 + 9999.986450773 * t);
-        Y1 += 0.00000001408 * Math.cos(3.82839552801 + 348.8476468921 * t);
-        Y1 += 0.00000001379 * Math.cos(1.75134819042 + 555.5544601911 * t);
-        Y1 += 0.00000001368 * Math.cos(2.25768027500 + 606.7601855223 * t);
-        Y1 += 0.00000001369 * Math.cos(4.62332067160 + 681.5417840896 * t);
-        Y1 += 0.00000001566 * Math.cos(4.85371280569 + 3163.918696566 * t);
-        Y1 += 0.00000001489 * Math.cos(1.47256565119 + 263.7016716171 * t);
-        Y1 += 0.00000001345 * Math.cos(0.40544096187 + 449.232108125 * t);
-        Y1 += 0.00000001347 * Math.cos(0.95659867183 + 1176.7017984094 * t);
-        Y1 += 0.00000001506 * Math.cos(4.98644271497 + 251.1714986449 * t);
-        Y1 += 0.00000001463 * Math.cos(0.13381728103 + 69.3649725959 * t);
-        Y1 += 0.00000001533 * Math.cos(5.35897682405 + 906.849787638 * t);
-        Y1 += 0.00000001537 * Math.cos(4.00254787001 + 393.4610900843 * t);
-        Y1 += 0.00000001524 * Math.cos(4.86466679268 + 921.0768816396 * t);
-        Y1 += 0.00000001330 * Math.cos(3.29563299950 + 460.5384408198 * t);
-        Y1 += 0.00000001732 * Math.cos(5.35967006820 + 1126.2992222303 * t);
-        Y1 += 0.00000001578 * Math.cos(4.41469563792 + 190.4045457581 * t);
-        Y1 += 0.00000001578 * Math.cos(3.61652318226 + 236.1936451179 * t);
-        Y1 += 0.00000001333 * Math.cos(1.44452251314 + 518.3846323998 * t);
-        Y1 += 0.00000001517 * Math.cos(4.56505866021 + 3480.3105662226 * t);
-        Y1 += 0.00000001348 * Math.cos(3.97556216331 + 17.4084877393 * t);
-        Y1 += 0.00000001541 * Math.cos(3.08280299118 + 151.260118164 * t);
-        Y1 += 0.00000001333 * Math.cos(0.87141945338 + 282.6640680339 * t);
-        Y1 += 0.00000001290 * Math.cos(2.78166040458 + 141.6988906084 * t);
-        Y1 += 0.00000001548 * Math.cos(1.15089562508 + 1048.3362299253 * t);
-        Y1 += 0.00000001703 * Math.cos(5.79509953170 + 100.6450936638 * t);
-        Y1 += 0.00000001313 * Math.cos(1.00529348900 + 319.3126309634 * t);
-        Y1 += 0.00000001287 * Math.cos(4.97743606169 + 286.596221297 * t);
-        Y1 += 0.00000001287 * Math.cos(3.05378275849 + 140.001969579 * t);
-        Y1 += 0.00000001284 * Math.cos(1.25389505833 + 7.1617311106 * t);
-        Y1 += 0.00000001269 * Math.cos(0.60500062367 + 180.1619946463 * t);
-        Y1 += 0.00000001551 * Math.cos(0.90565423938 + 6.1503391543 * t);
-        Y1 += 0.00000001321 * Math.cos(5.40533932982 + 401.3253966105 * t);
-        Y1 += 0.00000001247 * Math.cos(3.07584535023 + 187.4356003415 * t);
-        Y1 += 0.00000001247 * Math.cos(4.95537346995 + 239.1625905345 * t);
-        Y1 += 0.00000001670 * Math.cos(3.20068218026 + 1560.6187072806 * t);
-        Y1 += 0.00000001246 * Math.cos(3.36638903654 + 2487.4160449478 * t);
-        Y1 += 0.00000001227 * Math.cos(3.22759415891 + 1354.4331588434 * t);
-        Y1 += 0.00000001237 * Math.cos(4.96982095855 + 11926.2544136688 * t);
-        Y1 += 0.00000001244 * Math.cos(0.04476099962 + 674.4282370888 * t);
-        Y1 += 0.00000001259 * Math.cos(4.77947362013 + 823.9914342234 * t);
-        Y1 += 0.00000001227 * Math.cos(3.67293743287 + 4127.3213995374 * t);
-        Y1 += 0.00000001343 * Math.cos(1.02487927152 + 72.3339180125 * t);
-        Y1 += 0.00000001396 * Math.cos(1.29558481851 + 1063.3140834523 * t);
-        Y1 += 0.00000001231 * Math.cos(4.01733211314 + 51535.90899683439 * t);
-        Y1 += 0.00000001385 * Math.cos(2.69047350261 + 41.0537969446 * t);
-        Y1 += 0.00000001208 * Math.cos(0.55094685421 + 3370.1042450032 * t);
-        Y1 += 0.00000001361 * Math.cos(0.60826072973 + 313.9441891018 * t);
-        Y1 += 0.00000001353 * Math.cos(1.29562446082 + 1056.2005364515 * t);
-        Y1 += 0.00000001501 * Math.cos(1.76820220332 + 3914.0223040994 * t);
-        Y1 += 0.00000001672 * Math.cos(3.53405579707 + 1244.226837624 * t);
-        Y1 += 0.00000001198 * Math.cos(0.48262910294 + 1062.5633239269 * t);
-        Y1 += 0.00000001304 * Math.cos(2.10796184787 + 1368.660252845 * t);
-        Y1 += 0.00000001294 * Math.cos(0.43494678616 + 3259.8979237838 * t);
-        Y1 += 0.00000001192 * Math.cos(5.25668652917 + 9595.2390892234 * t);
-        Y1 += 0.00000001186 * Math.cos(4.29620869798 + 938.8806682313 * t);
-        Y1 += 0.00000001168 * Math.cos(2.65330892914 + 74.6385862154 * t);
-        Y1 += 0.00000001330 * Math.cos(4.76147886793 + 200.0352092829 * t);
-        Y1 += 0.00000001330 * Math.cos(0.12814729866 + 226.5629815931 * t);
-        Y1 += 0.00000001232 * Math.cos(3.67245960431 + 188.0263011725 * t);
-        Y1 += 0.00000001154 * Math.cos(1.67729267315 + 782.3469364478 * t);
-        Y1 += 0.00000001209 * Math.cos(0.44068563547 + 552.5855147745 * t);
-        Y1 += 0.00000001386 * Math.cos(4.16778562437 + 527.2432845398 * t);
-        Y1 += 0.00000001397 * Math.cos(2.30137095313 + 2516.9078632512 * t);
-        Y1 += 0.00000001547 * Math.cos(3.43482102043 + 213.2509113282 * t);
-        Y1 += 0.00000001114 * Math.cos(1.57780803639 + 25234.70675982219 * t);
-        Y1 += 0.00000001387 * Math.cos(5.86439679069 + 336.8387387817 * t);
-        Y1 += 0.00000001528 * Math.cos(6.24034456555 + 3060.8259223474 * t);
-        Y1 += 0.00000001322 * Math.cos(3.81888755667 + 501.2367770914 * t);
-        Y1 += 0.00000001155 * Math.cos(1.81278387825 + 2090.3096723752 * t);
-        Y1 += 0.00000001141 * Math.cos(1.23640832422 + 1144.3154571431 * t);
-        Y1 += 0.00000001278 * Math.cos(2.91635929568 + 1038.0412891868 * t);
-        Y1 += 0.00000001351 * Math.cos(1.46889117918 + 179.3588454942 * t);
-        Y1 += 0.00000001167 * Math.cos(2.75098896132 + 634.4806603426 * t);
-        Y1 += 0.00000001131 * Math.cos(2.08666023513 + 1773.9178027186 * t);
-        Y1 += 0.00000001148 * Math.cos(3.75033984958 + 1357.6145525811 * t);
-        Y1 += 0.00000001409 * Math.cos(0.80723610507 + 1372.5924061081 * t);
-        Y1 += 0.00000001121 * Math.cos(2.13314347848 + 366.0436863103 * t);
-        Y1 += 0.00000001070 * Math.cos(1.30514111321 + 827.9235874865 * t);
-        Y1 += 0.00000001137 * Math.cos(0.05422233304 + 4333.5069479746 * t);
-        Y1 += 0.00000001097 * Math.cos(2.32605918661 + 988.532484885 * t);
-        Y1 += 0.00000001056 * Math.cos(4.78995933839 + 212.7778305762 * t);
-        Y1 += 0.00000001288 * Math.cos(0.28913908894 + 247.2393453818 * t);
-        Y1 += 0.00000001180 * Math.cos(1.07459117463 + 2921.1277828246 * t);
-        Y1 += 0.00000001092 * Math.cos(5.25938351806 + 1314.3255234028 * t);
-        Y1 += 0.00000001230 * Math.cos(3.95893223706 + 831.1049812242 * t);
-        Y1 += 0.00000001086 * Math.cos(0.65554097744 + 140.9651774255 * t);
-        Y1 += 0.00000001178 * Math.cos(0.17068538925 + 7.6348118626 * t);
-        Y1 += 0.00000001050 * Math.cos(3.33777919837 + 1791.3262904579 * t);
-        Y1 += 0.00000001294 * Math.cos(1.78071318384 + 691.1030116452 * t);
-        Y1 += 0.00000001146 * Math.cos(5.05013070926 + 220.3007678542 * t);
-        Y1 += 0.00000001196 * Math.cos(1.60064335169 + 1459.9565672743 * t);
-        Y1 += 0.00000001298 * Math.cos(1.26343370681 + 2634.2277314714 * t);
-        Y1 += 0.00000001024 * Math.cos(2.20885054302 + 1026.2448293975 * t);
-        Y1 += 0.00000001142 * Math.cos(3.62094396061 + 480.251596762 * t);
-        Y1 += 0.00000001119 * Math.cos(3.84255993144 + 1534.7381658416 * t);
-        Y1 += 0.00000001032 * Math.cos(0.99207081399 + 241.8709035202 * t);
-        Y1 += 0.00000001032 * Math.cos(0.75596269901 + 184.7272873558 * t);
-        Y1 += 0.00000001000 * Math.cos(3.70447169258 + 1166.4068576709 * t);
-        Y1 += 0.00000001095 * Math.cos(0.46976742311 + 541.5398145106 * t);
-        Y1 += 0.00000001135 * Math.cos(5.55554743280 + 25668.418497699 * t);
-        Y1 += 0.00000001018 * Math.cos(0.19827209218 + 969.6224780949 * t);
-        Y1 += 0.00000001035 * Math.cos(2.08039216504 + 2107.7181601145 * t);
-        Y1 += 0.00000001021 * Math.cos(0.97936116353 + 586.3133163972 * t);
-        Y1 += 0.00000001128 * Math.cos(2.35318641429 + 398.2870152247 * t);
-        Y1 += 0.00000001034 * Math.cos(4.59248984743 + 235.933012687 * t);
-        Y1 += 0.00000001255 * Math.cos(2.58348469138 + 945.2434557067 * t);
-        Y1 += 0.00000001131 * Math.cos(1.80260354863 + 5481.7545583808 * t);
-        Y1 += 0.00000000985 * Math.cos(3.11692018349 + 2004.6253858959 * t);
-        Y1 += 0.00000000973 * Math.cos(4.58689241437 + 1696.0978227655 * t);
-        Y1 += 0.00000001281 * Math.cos(1.17354221088 + 322.6116447801 * t);
-        Y1 += 0.00000001311 * Math.cos(1.69829246657 + 1040.4719233991 * t);
-        Y1 += 0.00000001133 * Math.cos(3.28608815192 + 1044.4040766622 * t);
-        Y1 += 0.00000001023 * Math.cos(6.17359852630 + 306.830642101 * t);
-        Y1 += 0.00000001080 * Math.cos(1.56769032500 + 2906.900688823 * t);
-        Y1 += 0.00000000947 * Math.cos(2.80425771264 + 3569.1762464396 * t);
-        Y1 += 0.00000001048 * Math.cos(2.96360462842 + 745.9108218394 * t);
-        Y1 += 0.00000000958 * Math.cos(1.01512625795 + 5378.6617841622 * t);
-        Y1 += 0.00000000942 * Math.cos(1.93042438563 + 114.8721876654 * t);
-        Y1 += 0.00000000981 * Math.cos(0.61206352827 + 700.6642392008 * t);
-        Y1 += 0.00000000943 * Math.cos(3.77054123407 + 443.8636662634 * t);
-        Y1 += 0.00000001169 * Math.cos(2.55431542134 + 1468.5716333259 * t);
-        Y1 += 0.00000000941 * Math.cos(2.10164527812 + 119.767548775 * t);
-        Y1 += 0.00000000997 * Math.cos(1.49781488558 + 4863.1979130692 * t);
-        Y1 += 0.00000001058 * Math.cos(3.10506351339 + 494.4786907636 * t);
-        Y1 += 0.00000001060 * Math.cos(6.04870941841 + 25654.19140369739 * t);
-        Y1 += 0.00000001150 * Math.cos(2.81140082194 + 1152.1797636693 * t);
-        Y1 += 0.00000000986 * Math.cos(3.52646141704 + 5842.2505651138 * t);
-        Y1 += 0.00000001082 * Math.cos(3.48267233754 + 731.6837278378 * t);
-        Y1 += 0.00000001061 * Math.cos(2.53267332217 + 7.8643065262 * t);
-        Y1 += 0.00000001246 * Math.cos(4.88854535253 + 738.7972748386 * t);
-        Y1 += 0.00000000940 * Math.cos(0.81063715213 + 97.4155158163 * t);
-        Y1 += 0.00000000972 * Math.cos(0.55466768669 + 3473.1970192218 * t);
-        Y1 += 0.00000001035 * Math.cos(0.84548736211 + 672.1406152284 * t);
-        Y1 += 0.00000000932 * Math.cos(4.76193011807 + 838.218528225 * t);
-        Y1 += 0.00000000945 * Math.cos(0.97464731674 + 205.9731001161 * t);
-        Y1 += 0.00000000945 * Math.cos(3.91497884985 + 220.6250907599 * t);
-        Y1 += 0.00000000914 * Math.cos(0.07220332386 + 1681.1199692385 * t);
-        Y1 += 0.00000000930 * Math.cos(0.85222232622 + 1310.3933701397 * t);
-        Y1 += 0.00000000905 * Math.cos(0.44194841216 + 12779.4507954208 * t);
-        Y1 += 0.00000000951 * Math.cos(2.55095800722 + 418.7338843498 * t);
-        Y1 += 0.00000000957 * Math.cos(3.87155467351 + 2751.5475996916 * t);
-        Y1 += 0.00000001065 * Math.cos(2.47549936867 + 614.6244920485 * t);
-        Y1 += 0.00000000913 * Math.cos(4.49732893500 + 285.3723810196 * t);
-        Y1 += 0.00000001130 * Math.cos(4.33302778122 + 1902.2833712027 * t);
-        Y1 += 0.00000001012 * Math.cos(0.44789996996 + 1379.7059531089 * t);
-        Y1 += 0.00000000911 * Math.cos(1.34750279511 + 1250.5896250994 * t);
-        Y1 += 0.00000000892 * Math.cos(3.38913025388 + 4443.713269194 * t);
-        Y1 += 0.00000000894 * Math.cos(5.20515813371 + 3803.81598288 * t);
-        Y1 += 0.00000001011 * Math.cos(2.41001422307 + 138.6605092226 * t);
-        Y1 += 0.00000001039 * Math.cos(3.05654473231 + 2332.0629558164 * t);
-        Y1 += 0.00000001091 * Math.cos(1.83710876302 + 123.5396433437 * t);
-        Y1 += 0.00000000939 * Math.cos(3.50343473164 + 20213.271996984 * t);
-        Y1 += 0.00000001131 * Math.cos(1.92127706230 + 639.8491022042 * t);
-        Y1 += 0.00000000993 * Math.cos(5.41814026418 + 635.231419868 * t);
-        Y1 += 0.00000001014 * Math.cos(2.27419938832 + 246.4361962297 * t);
-        Y1 += 0.00000000922 * Math.cos(4.94995215129 + 9772.4602613334 * t);
-        Y1 += 0.00000000867 * Math.cos(1.40600454066 + 2442.2692770358 * t);
-        Y1 += 0.00000001086 * Math.cos(4.72298778334 + 1998.2625984205 * t);
-        Y1 += 0.00000001114 * Math.cos(5.51408175984 + 318.8395502114 * t);
-        Y1 += 0.00000000867 * Math.cos(1.87500015152 + 952.0963702766 * t);
-        Y1 += 0.00000000866 * Math.cos(0.93216349587 + 51962.5071877104 * t);
-        Y1 += 0.00000000872 * Math.cos(0.35835124427 + 1097.0942747017 * t);
-        Y1 += 0.00000000876 * Math.cos(3.23898762254 + 1699.2792165032 * t);
-        Y1 += 0.00000000861 * Math.cos(5.35015485056 + 1474.9344208013 * t);
-        Y1 += 0.00000001041 * Math.cos(3.52118365739 + 1670.82502850 * t);
-        Y1 += 0.00000000893 * Math.cos(1.40847703679 + 3149.6916025644 * t);
-        Y1 += 0.00000001037 * Math.cos(1.61883909205 + 756.3233826569 * t);
-        Y1 += 0.00000000859 * Math.cos(4.64155099558 + 1347.3196118426 * t);
-        Y1 += 0.00000001008 * Math.cos(4.34062461071 + 7.065362891 * t);
-        Y1 += 0.00000000868 * Math.cos(2.81754009176 + 12146.6670561076 * t);
-        Y1 += 0.00000001178 * Math.cos(4.87566234372 + 1328.5526174044 * t);
-        Y1 += 0.00000000841 * Math.cos(4.45584468813 + 535.9107402181 * t);
-        Y1 += 0.00000000974 * Math.cos(3.51497366146 + 987.7817253596 * t);
-        Y1 += 0.00000000845 * Math.cos(3.42724095402 + 1239.5439248355 * t);
-        Y1 += 0.00000000845 * Math.cos(2.85404367064 + 1570.9136480191 * t);
-        Y1 += 0.00000000936 * Math.cos(3.41425549096 + 550.1378342197 * t);
-        Y1 += 0.00000000846 * Math.cos(1.60464490839 + 2114.8317071153 * t);
-        Y1 += 0.00000000982 * Math.cos(6.17335642566 + 1471.0022675382 * t);
-        Y1 += 0.00000001164 * Math.cos(4.46540287915 + 3391.4448860056 * t);
-        Y1 += 0.00000001137 * Math.cos(0.50785963490 + 6467.9257579616 * t);
-        Y1 += 0.00000000885 * Math.cos(1.64388709070 + 608.877797677 * t);
-        Y1 += 0.00000000832 * Math.cos(6.23911864828 + 616.3214130779 * t);
-        Y1 += 0.00000000887 * Math.cos(0.81421674914 + 3362.9906980024 * t);
-        Y1 += 0.00000000898 * Math.cos(4.20351235707 + 5436.9930152402 * t);
-        Y1 += 0.00000000833 * Math.cos(5.79841023985 + 883.7951792637 * t);
-        Y1 += 0.00000000848 * Math.cos(2.79833225924 + 5158.2491417234 * t);
-        Y1 += 0.00000000841 * Math.cos(2.31765589143 + 473.068613792 * t);
-        Y1 += 0.00000000902 * Math.cos(1.46957685393 + 477.0007670551 * t);
-        Y1 += 0.00000000875 * Math.cos(4.50068448495 + 3494.5376602242 * t);
-        Y1 += 0.00000000837 * Math.cos(1.18787622858 + 2854.6403739102 * t);
-        Y1 += 0.00000000846 * Math.cos(4.46991640952 + 199.0238173266 * t);
-        Y1 += 0.00000000846 * Math.cos(0.41970975707 + 227.5743735494 * t);
-        Y1 += 0.00000000821 * Math.cos(2.13215936793 + 4223.3006267552 * t);
-        Y1 += 0.00000000839 * Math.cos(0.44907719753 + 220.2001941177 * t);
-        Y1 += 0.00000000839 * Math.cos(4.44054896906 + 206.3979967583 * t);
-        Y1 += 0.00000000801 * Math.cos(4.03195225550 + 1255.2725378879 * t);
-        Y1 += 0.00000000827 * Math.cos(2.10399735762 + 219.891377577 * t);
-        Y1 += 0.00000000852 * Math.cos(0.69770700155 + 2950.619601128 * t);
-        Y1 += 0.00000000854 * Math.cos(5.92834155433 + 539.9859058331 * t);
-        Y1 += 0.00000000871 * Math.cos(5.97413520662 + 10213.285546211 * t);
-        Y1 += 0.00000000858 * Math.cos(4.12455323678 + 781.5961769224 * t);
-        Y1 += 0.00000001068 * Math.cos(5.79442483670 + 2957.7331481288 * t);
-        Y1 += 0.00000000849 * Math.cos(4.58387124471 + 832.5894539325 * t);
-        Y1 += 0.00000000865 * Math.cos(0.51942079568 + 2125.8774073792 * t);
-        Y1 += 0.00000000788 * Math.cos(2.02294007206 + 749.2098356561 * t);
-        Y1 += 0.00000001023 * Math.cos(2.62667117726 + 93.531546663 * t);
-        Y1 += 0.00000001078 * Math.cos(2.97011727945 + 1877.0105769372 * t);
-        Y1 += 0.00000001056 * Math.cos(2.96418062084 + 214.2623032845 * t);
-        Y1 += 0.00000000875 * Math.cos(3.41429492396 + 945.9942152321 * t);
-        Y1 += 0.00000000763 * Math.cos(2.68502300380 + 198.1087935899 * t);
-        Y1 += 0.00000000763 * Math.cos(2.20460316279 + 228.4893972861 * t);
-        Y1 += 0.00000000783 * Math.cos(2.39253729880 + 98.4269077726 * t);
-        Y1 += 0.00000000808 * Math.cos(2.01329663652 + 5856.4776591154 * t);
-        Y1 += 0.00000000831 * Math.cos(5.62799756997 + 9367.2027114598 * t);
-        Y1 += 0.00000000852 * Math.cos(4.01306880569 + 973.554631358 * t);
-        Y1 += 0.00000000758 * Math.cos(4.17954417886 + 109.3125493421 * t);
-        Y1 += 0.00000001032 * Math.cos(2.50124672205 + 775.233389447 * t);
-        Y1 += 0.00000000778 * Math.cos(4.46167796863 + 418.9633790134 * t);
-        Y1 += 0.00000000763 * Math.cos(5.67125967655 + 1912.5783119412 * t);
-        Y1 += 0.00000000949 * Math.cos(2.87351778014 + 1159.2933106701 * t);
-        Y1 += 0.00000000752 * Math.cos(1.93856643038 + 313.4711083498 * t);
-        Y1 += 0.00000000752 * Math.cos(6.09265238980 + 113.1270825262 * t);
-        Y1 += 0.00000000901 * Math.cos(2.18835198050 + 444.0066786153 * t);
-        Y1 += 0.00000001017 * Math.cos(0.80348484502 + 1264.816719101 * t);
-        Y1 += 0.00000000781 * Math.cos(1.09088467810 + 4752.9915918498 * t);
-        Y1 += 0.00000000829 * Math.cos(3.76042707908 + 3906.9087570986 * t);
-        Y1 += 0.00000000740 * Math.cos(0.33707021115 + 1364.7280995819 * t);
-        Y1 += 0.00000000787 * Math.cos(4.14285154465 + 953.1077622329 * t);
-        Y1 += 0.00000000786 * Math.cos(3.03025765906 + 1385.174968707 * t);
-        Y1 += 0.00000000743 * Math.cos(4.94465691744 + 1784.2127434571 * t);
-        Y1 += 0.00000000730 * Math.cos(1.54029484212 + 1365.4788591073 * t);
-        Y1 += 0.00000000745 * Math.cos(1.32328297416 + 4017.115078318 * t);
-        Y1 += 0.00000000884 * Math.cos(2.91900213011 + 114.9416236346 * t);
-        Y1 += 0.00000000799 * Math.cos(1.90491555917 + 495.9631634719 * t);
-        Y1 += 0.00000000720 * Math.cos(2.14719013122 + 878.3261636656 * t);
-        Y1 += 0.00000000910 * Math.cos(5.59941883957 + 213.8203602998 * t);
-        Y1 += 0.00000001001 * Math.cos(1.63769179212 + 4230.414173756 * t);
-        Y1 += 0.00000000717 * Math.cos(5.56374471646 + 103925.01437542078 * t);
-        Y1 += 0.00000000744 * Math.cos(5.01299895798 + 5422.7659212386 * t);
-        Y1 += 0.00000000896 * Math.cos(4.09061813923 + 25661.3049506982 * t);
-        Y1 += 0.00000000714 * Math.cos(2.89023492932 + 2115.5824666407 * t);
-        Y1 += 0.00000000723 * Math.cos(6.18405509738 + 662.531203563 * t);
-        Y1 += 0.00000000713 * Math.cos(4.36612152570 + 1663.7114814992 * t);
-        Y1 += 0.00000000745 * Math.cos(5.54206315448 + 1578.0271950199 * t);
-        Y1 += 0.00000000706 * Math.cos(0.01886419763 + 664.2763087022 * t);
-        Y1 += 0.00000000736 * Math.cos(4.11752977909 + 1460.7073267997 * t);
-        Y1 += 0.00000000977 * Math.cos(1.87199705293 + 1987.2168981566 * t);
-        Y1 += 0.00000000825 * Math.cos(2.88680810425 + 498.9321088885 * t);
-        Y1 += 0.00000000729 * Math.cos(2.81635363996 + 51742.09454527159 * t);
-        Y1 += 0.00000000705 * Math.cos(4.49937953677 + 275.338072712 * t);
-        Y1 += 0.00000000957 * Math.cos(2.77042684861 + 433.663553767 * t);
-        Y1 += 0.00000000825 * Math.cos(3.13361237855 + 817.628646748 * t);
-        Y1 += 0.00000000711 * Math.cos(0.32918457858 + 205.9249160063 * t);
-        Y1 += 0.00000000711 * Math.cos(4.56044158801 + 220.6732748697 * t);
-        Y1 += 0.00000000792 * Math.cos(5.07640935202 + 561.934294009 * t);
-        Y1 += 0.00000000815 * Math.cos(4.55283923414 + 3355.8771510016 * t);
-        Y1 += 0.00000000796 * Math.cos(0.85220984274 + 19786.67380610799 * t);
-        Y1 += 0.00000000706 * Math.cos(5.83567464088 + 644.56315276 * t);
-        Y1 += 0.00000000693 * Math.cos(0.86742075683 + 25448.00585526019 * t);
-        Y1 += 0.00000000775 * Math.cos(4.17411042862 + 620.253566341 * t);
-        Y1 += 0.00000000785 * Math.cos(3.26469936926 + 1585.1407420207 * t);
-        Y1 += 0.00000000692 * Math.cos(1.24760556574 + 1165.3954657146 * t);
-        Y1 += 0.00000000960 * Math.cos(2.16058060627 + 2826.186185907 * t);
-        Y1 += 0.00000000681 * Math.cos(1.83626169258 + 100.3844612329 * t);
-        Y1 += 0.00000000694 * Math.cos(3.92108200272 + 107.2855599126 * t);
-        Y1 += 0.00000000780 * Math.cos(4.34812306979 + 2321.7680150779 * t);
-        Y1 += 0.00000000692 * Math.cos(4.70527378160 + 3590.516887442 * t);
-        Y1 += 0.00000000681 * Math.cos(2.46730626644 + 3885.5681160962 * t);
-        Y1 += 0.00000000687 * Math.cos(1.26279091079 + 1261.6353253633 * t);
-        Y1 += 0.00000000695 * Math.cos(1.75702964176 + 812.9457339595 * t);
-        Y1 += 0.00000000826 * Math.cos(5.98430782385 + 284.8993002676 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 465 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00563706537 * Math.cos(5.97115878242 + 206.1855484372 * t);
-        Y2 += 0.00547012116 * Math.cos(2.05154973426 + 220.4126424388 * t);
-        Y2 += 0.00458518613;
-        Y2 += 0.00362294249 * Math.cos(0.89540100509 + 213.299095438 * t);
-        Y2 += 0.00225521642 * Math.cos(0.91699821445 + 426.598190876 * t);
-        Y2 += 0.00088390611 * Math.cos(3.30289449917 + 7.1135470008 * t);
-        Y2 += 0.00050101314 * Math.cos(1.12976163835 + 433.7117378768 * t);
-        Y2 += 0.00045516403 * Math.cos(5.07669466539 + 419.4846438752 * t);
-        Y2 += 0.00032896745 * Math.cos(0.02089057938 + 639.897286314 * t);
-        Y2 += 0.00027199743 * Math.cos(1.92638417640 + 227.5261894396 * t);
-        Y2 += 0.00013251505 * Math.cos(6.07693099404 + 199.0720014364 * t);
-        Y2 += 0.00010425984 * Math.cos(3.18246869028 + 14.2270940016 * t);
-        Y2 += 0.00006673556 * Math.cos(4.24747633887 + 110.2063212194 * t);
-        Y2 += 0.00004658591 * Math.cos(0.26557833758 + 647.0108333148 * t);
-        Y2 += 0.00004934094 * Math.cos(1.51301179516 + 216.4804891757 * t);
-        Y2 += 0.00004789554 * Math.cos(0.24337901916 + 210.1177017003 * t);
-        Y2 += 0.00004167268 * Math.cos(3.73203671391 + 316.3918696566 * t);
-        Y2 += 0.00003509537 * Math.cos(5.49281440568 + 853.196381752 * t);
-        Y2 += 0.00002743470 * Math.cos(6.21939083886 + 103.0927742186 * t);
-        Y2 += 0.00002661172 * Math.cos(1.58795412736 + 209.3669421749 * t);
-        Y2 += 0.00002541191 * Math.cos(1.07964653574 + 440.8252848776 * t);
-        Y2 += 0.00002568018 * Math.cos(0.16811216098 + 217.2312487011 * t);
-        Y2 += 0.00002507738 * Math.cos(3.11882746290 + 117.3198682202 * t);
-        Y2 += 0.00002159089 * Math.cos(4.99912567024 + 632.7837393132 * t);
-        Y2 += 0.00001828412 * Math.cos(2.43368650590 + 323.5054166574 * t);
-        Y2 += 0.00001351629 * Math.cos(4.81673889364 + 412.3710968744 * t);
-        Y2 += 0.00001177305 * Math.cos(5.84484412189 + 309.2783226558 * t);
-        Y2 += 0.00000804912 * Math.cos(1.78663050298 + 234.6397364404 * t);
-        Y2 += 0.00000891561 * Math.cos(0.57880622764 + 95.9792272178 * t);
-        Y2 += 0.00000806554 * Math.cos(5.80160560511 + 202.2533951741 * t);
-        Y2 += 0.00000737518 * Math.cos(2.29009633302 + 224.3447957019 * t);
-        Y2 += 0.00000439328 * Math.cos(2.02776827506 + 330.6189636582 * t);
-        Y2 += 0.00000427442 * Math.cos(5.71757576099 + 860.3099287528 * t);
-        Y2 += 0.00000377116 * Math.cos(5.39638432405 + 11.0457002639 * t);
-        Y2 += 0.00000438738 * Math.cos(3.04003133763 + 21.3406410024 * t);
-        Y2 += 0.00000404595 * Math.cos(1.38253517416 + 223.5940361765 * t);
-        Y2 += 0.00000400049 * Math.cos(0.64827543918 + 429.7795846137 * t);
-        Y2 += 0.00000335529 * Math.cos(4.72223792972 + 1066.49547719 * t);
-        Y2 += 0.00000313557 * Math.cos(2.87420547669 + 3.1813937377 * t);
-        Y2 += 0.00000356011 * Math.cos(0.49515346590 + 422.6660376129 * t);
-        Y2 += 0.00000283801 * Math.cos(0.92471217472 + 88.865680217 * t);
-        Y2 += 0.00000276664 * Math.cos(0.06759886827 + 625.6701923124 * t);
-        Y2 += 0.00000274267 * Math.cos(0.07990244299 + 302.164775655 * t);
-        Y2 += 0.00000265498 * Math.cos(5.80586423553 + 423.4167971383 * t);
-        Y2 += 0.00000243984 * Math.cos(0.24814637625 + 654.1243803156 * t);
-        Y2 += 0.00000263236 * Math.cos(1.75838078242 + 124.433415221 * t);
-        Y2 += 0.00000234804 * Math.cos(1.98441386459 + 3.9321532631 * t);
-        Y2 += 0.00000322970 * Math.cos(3.74692518093 + 529.6909650946 * t);
-        Y2 += 0.00000222884 * Math.cos(6.17115980346 + 191.9584544356 * t);
-        Y2 += 0.00000229042 * Math.cos(0.40578151728 + 203.0041546995 * t);
-        Y2 += 0.00000194066 * Math.cos(0.77928033729 + 149.5631971346 * t);
-        Y2 += 0.00000175058 * Math.cos(3.24791503390 + 522.5774180938 * t);
-        Y2 += 0.00000158535 * Math.cos(1.24843935837 + 536.8045120954 * t);
-        Y2 += 0.00000115588 * Math.cos(0.89164509195 + 277.0349937414 * t);
-        Y2 += 0.00000109123 * Math.cos(2.57234111431 + 10.2949407385 * t);
-        Y2 += 0.00000104167 * Math.cos(4.29243802959 + 515.463871093 * t);
-        Y2 += 0.00000123782 * Math.cos(1.71078775140 + 437.6438911399 * t);
-        Y2 += 0.00000102074 * Math.cos(5.33636424684 + 846.0828347512 * t);
-        Y2 += 0.00000089666 * Math.cos(2.38634979171 + 415.5524906121 * t);
-        Y2 += 0.00000094080 * Math.cos(0.34838778915 + 430.5303441391 * t);
-        Y2 += 0.00000082635 * Math.cos(0.98367627117 + 447.9388318784 * t);
-        Y2 += 0.00000080158 * Math.cos(3.02403811252 + 231.4583427027 * t);
-        Y2 += 0.00000056165 * Math.cos(3.57976541726 + 18.1592472647 * t);
-        Y2 += 0.00000059355 * Math.cos(3.25639427388 + 728.762966531 * t);
-        Y2 += 0.00000055421 * Math.cos(4.71536076772 + 838.9692877504 * t);
-        Y2 += 0.00000045494 * Math.cos(4.35717735333 + 831.8557407496 * t);
-        Y2 += 0.00000046405 * Math.cos(1.16936914834 + 543.9180590962 * t);
-        Y2 += 0.00000046592 * Math.cos(2.16397372306 + 195.1398481733 * t);
-        Y2 += 0.00000045784 * Math.cos(4.72127813952 + 408.4389436113 * t);
-        Y2 += 0.00000045096 * Math.cos(5.87984776956 + 618.5566453116 * t);
-        Y2 += 0.00000039174 * Math.cos(4.89863703884 + 1073.6090241908 * t);
-        Y2 += 0.00000047325 * Math.cos(4.43403045044 + 1059.3819301892 * t);
-        Y2 += 0.00000044256 * Math.cos(5.32455759475 + 942.062061969 * t);
-        Y2 += 0.00000034252 * Math.cos(6.24954297345 + 362.8622925726 * t);
-        Y2 += 0.00000043351 * Math.cos(4.50033291555 + 742.9900605326 * t);
-        Y2 += 0.00000042263 * Math.cos(5.91441597118 + 635.9651330509 * t);
-        Y2 += 0.00000036033 * Math.cos(4.88958618693 + 222.8603229936 * t);
-        Y2 += 0.00000028666 * Math.cos(2.89210881124 + 113.3877149571 * t);
-        Y2 += 0.00000030304 * Math.cos(1.28676234140 + 56.6223513026 * t);
-        Y2 += 0.00000033922 * Math.cos(0.59559534499 + 436.8931316145 * t);
-        Y2 += 0.00000036126 * Math.cos(3.11147910034 + 203.7378678824 * t);
-        Y2 += 0.00000037270 * Math.cos(0.57321060807 + 85.8272988312 * t);
-        Y2 += 0.00000029536 * Math.cos(3.76331314778 + 269.9214467406 * t);
-        Y2 += 0.00000034388 * Math.cos(6.09889554857 + 643.0786800517 * t);
-        Y2 += 0.00000031901 * Math.cos(1.14481756518 + 337.732510659 * t);
-        Y2 += 0.00000026875 * Math.cos(1.14516402265 + 131.5469622218 * t);
-        Y2 += 0.00000025259 * Math.cos(0.69371609826 + 750.1036075334 * t);
-        Y2 += 0.00000028840 * Math.cos(3.94162037781 + 1279.794572628 * t);
-        Y2 += 0.00000024873 * Math.cos(0.44942144561 + 76.2660712756 * t);
-        Y2 += 0.00000024820 * Math.cos(1.10294034290 + 81.7521332162 * t);
-        Y2 += 0.00000024694 * Math.cos(4.17474842972 + 1155.361157407 * t);
-        Y2 += 0.00000025349 * Math.cos(3.01894544341 + 483.2205421786 * t);
-        Y2 += 0.00000023209 * Math.cos(5.71293795197 + 867.4234757536 * t);
-        Y2 += 0.00000021337 * Math.cos(0.28233505485 + 295.0512286542 * t);
-        Y2 += 0.00000021014 * Math.cos(2.22286425893 + 160.6088973985 * t);
-        Y2 += 0.00000020843 * Math.cos(5.58798240327 + 288.0806940053 * t);
-        Y2 += 0.00000021917 * Math.cos(3.15032476934 + 1045.1548361876 * t);
-        Y2 += 0.00000020760 * Math.cos(5.62171781320 + 416.3032501375 * t);
-        Y2 += 0.00000020311 * Math.cos(0.53682587226 + 22.0914005278 * t);
-        Y2 += 0.00000020269 * Math.cos(3.59750531801 + 70.8494453042 * t);
-        Y2 += 0.00000019660 * Math.cos(4.12343704195 + 1148.2476104062 * t);
-        Y2 += 0.00000019267 * Math.cos(5.28623997942 + 497.4476361802 * t);
-        Y2 += 0.00000023416 * Math.cos(2.25105096933 + 956.2891559706 * t);
-        Y2 += 0.00000016596 * Math.cos(5.19612423608 + 628.8515860501 * t);
-        Y2 += 0.00000019564 * Math.cos(2.27969754762 + 63.7358983034 * t);
-        Y2 += 0.00000019338 * Math.cos(4.99775249418 + 1258.4539316256 * t);
-        Y2 += 0.00000017318 * Math.cos(1.50339429745 + 107.0249274817 * t);
-        Y2 += 0.00000015416 * Math.cos(1.59544914625 + 241.7532834412 * t);
-        Y2 += 0.00000015048 * Math.cos(2.45248308283 + 138.5174968707 * t);
-        Y2 += 0.00000015098 * Math.cos(5.93836982612 + 265.9892934775 * t);
-        Y2 += 0.00000016202 * Math.cos(4.47797857238 + 344.7030453079 * t);
-        Y2 += 0.00000019674 * Math.cos(0.51504291324 + 200.7689224658 * t);
-        Y2 += 0.00000016443 * Math.cos(5.11024344770 + 405.2575498736 * t);
-        Y2 += 0.00000018325 * Math.cos(4.26463276211 + 52.6901980395 * t);
-        Y2 += 0.00000018701 * Math.cos(4.60015871543 + 142.4496501338 * t);
-        Y2 += 0.00000018184 * Math.cos(1.23335576012 + 225.8292684102 * t);
-        Y2 += 0.00000018137 * Math.cos(5.36395571858 + 934.9485149682 * t);
-        Y2 += 0.00000013721 * Math.cos(0.54585194233 + 358.9301393095 * t);
-        Y2 += 0.00000017699 * Math.cos(1.09183113450 + 340.7708920448 * t);
-        Y2 += 0.00000015349 * Math.cos(4.02900442305 + 490.3340891794 * t);
-        Y2 += 0.00000013441 * Math.cos(2.93226064342 + 6290.1893969922 * t);
-        Y2 += 0.00000012938 * Math.cos(5.57228673197 + 181.0557665236 * t);
-        Y2 += 0.00000012996 * Math.cos(0.94108602765 + 735.8765135318 * t);
-        Y2 += 0.00000013344 * Math.cos(3.33822391651 + 106.2741679563 * t);
-        Y2 += 0.00000015757 * Math.cos(1.02090474834 + 650.9429865779 * t);
-        Y2 += 0.00000013152 * Math.cos(0.57129323430 + 6275.9623029906 * t);
-        Y2 += 0.00000013637 * Math.cos(4.63945882031 + 284.1485407422 * t);
-        Y2 += 0.00000012303 * Math.cos(2.19066097291 + 444.7574381407 * t);
-        Y2 += 0.00000012692 * Math.cos(5.22300147317 + 1375.7737998458 * t);
-        Y2 += 0.00000012628 * Math.cos(4.35563394629 + 10220.3990932118 * t);
-        Y2 += 0.00000011807 * Math.cos(4.77484476112 + 424.1505103212 * t);
-        Y2 += 0.00000013873 * Math.cos(4.11015597148 + 1052.2683831884 * t);
-        Y2 += 0.00000012355 * Math.cos(1.99468333352 + 10206.1719992102 * t);
-        Y2 += 0.00000012863 * Math.cos(5.73381279990 + 949.1756089698 * t);
-        Y2 += 0.00000011234 * Math.cos(1.25840483834 + 350.3321196004 * t);
-        Y2 += 0.00000013925 * Math.cos(5.46758177566 + 636.7158925763 * t);
-        Y2 += 0.00000010816 * Math.cos(5.57657783615 + 127.4717966068 * t);
-        Y2 += 0.00000010468 * Math.cos(2.47282916923 + 245.5424243524 * t);
-        Y2 += 0.00000010243 * Math.cos(4.11036997935 + 703.6331846174 * t);
-        Y2 += 0.00000009824 * Math.cos(4.14183224295 + 12.5301729722 * t);
-        Y2 += 0.00000010114 * Math.cos(3.97585916137 + 1471.7530270636 * t);
-        Y2 += 0.00000011347 * Math.cos(5.52210735319 + 351.8165923087 * t);
-        Y2 += 0.00000009198 * Math.cos(3.91003631710 + 1464.6394800628 * t);
-        Y2 += 0.00000010107 * Math.cos(4.01464967571 + 235.3904959658 * t);
-        Y2 += 0.00000008422 * Math.cos(0.17788593244 + 661.2379273164 * t);
-        Y2 += 0.00000011523 * Math.cos(4.28038150916 + 191.2076949102 * t);
-        Y2 += 0.00000008050 * Math.cos(4.42633572783 + 508.3503240922 * t);
-        Y2 += 0.00000007885 * Math.cos(5.61931104320 + 565.1156877467 * t);
-        Y2 += 0.00000008233 * Math.cos(5.11045948330 + 5849.3641121146 * t);
-        Y2 += 0.00000007982 * Math.cos(2.94467951015 + 1361.5467058442 * t);
-        Y2 += 0.00000007644 * Math.cos(1.29316810715 + 404.5067903482 * t);
-        Y2 += 0.00000007938 * Math.cos(1.18915691335 + 5863.5912061162 * t);
-        Y2 += 0.00000009121 * Math.cos(4.72270138876 + 1574.8458012822 * t);
-        Y2 += 0.00000007699 * Math.cos(0.25085366401 + 9779.5738083342 * t);
-        Y2 += 0.00000009489 * Math.cos(4.07433472727 + 1368.660252845 * t);
-        Y2 += 0.00000007423 * Math.cos(2.61273997897 + 9793.8009023358 * t);
-        Y2 += 0.00000008980 * Math.cos(5.08550396886 + 1251.3403846248 * t);
-        Y2 += 0.00000007350 * Math.cos(5.49243057571 + 313.2104759189 * t);
-        Y2 += 0.00000006938 * Math.cos(5.39456818142 + 208.633228992 * t);
-        Y2 += 0.00000006778 * Math.cos(5.77595384598 + 217.964961884 * t);
-        Y2 += 0.00000006524 * Math.cos(3.77251284742 + 429.0458714308 * t);
-        Y2 += 0.00000006362 * Math.cos(0.52150509836 + 319.5732633943 * t);
-        Y2 += 0.00000008402 * Math.cos(1.72645111914 + 6283.0758499914 * t);
-        Y2 += 0.00000007897 * Math.cos(0.14444386144 + 1162.4747044078 * t);
-        Y2 += 0.00000007764 * Math.cos(4.22781318512 + 621.7380390493 * t);
-        Y2 += 0.00000005960 * Math.cos(0.85552901967 + 114.1384744825 * t);
-        Y2 += 0.00000007979 * Math.cos(3.16170623406 + 10213.285546211 * t);
-        Y2 += 0.00000005532 * Math.cos(4.74020289938 + 1265.5674786264 * t);
-        Y2 += 0.00000005285 * Math.cos(4.70333453312 + 78.7137518304 * t);
-        Y2 += 0.00000006204 * Math.cos(3.56272058362 + 195.8906076987 * t);
-        Y2 += 0.00000005083 * Math.cos(4.30495322830 + 842.1506814881 * t);
-        Y2 += 0.00000006053 * Math.cos(1.30195578009 + 230.7075831773 * t);
-        Y2 += 0.00000005326 * Math.cos(4.98440493121 + 1692.1656695024 * t);
-        Y2 += 0.00000004909 * Math.cos(3.71093580405 + 1788.1448967202 * t);
-        Y2 += 0.00000004574 * Math.cos(3.65982491794 + 436.1594184316 * t);
-        Y2 += 0.00000004886 * Math.cos(0.47844921825 + 643.8294395771 * t);
-        Y2 += 0.00000004500 * Math.cos(6.03958077194 + 99.1606209555 * t);
-        Y2 += 0.00000004485 * Math.cos(4.27145091277 + 121.2520214833 * t);
-        Y2 += 0.00000004496 * Math.cos(0.45535353234 + 757.2171545342 * t);
-        Y2 += 0.00000004384 * Math.cos(3.69838113413 + 333.657345044 * t);
-        Y2 += 0.00000004240 * Math.cos(2.80668494715 + 175.1660598002 * t);
-        Y2 += 0.00000004203 * Math.cos(5.51409326781 + 576.1613880106 * t);
-        Y2 += 0.00000004364 * Math.cos(4.50874666063 + 824.7421937488 * t);
-        Y2 += 0.00000004391 * Math.cos(3.48685491425 + 74.7815985673 * t);
-        Y2 += 0.00000004242 * Math.cos(5.73406669115 + 289.5651667136 * t);
-        Y2 += 0.00000004026 * Math.cos(5.40316560805 + 251.4321310758 * t);
-        Y2 += 0.00000004027 * Math.cos(4.45902875729 + 710.7467316182 * t);
-        Y2 += 0.00000003932 * Math.cos(2.55603320481 + 1169.5882514086 * t);
-        Y2 += 0.00000003876 * Math.cos(2.82381242930 + 134.5853436076 * t);
-        Y2 += 0.00000004906 * Math.cos(6.03440415257 + 479.2883889155 * t);
-        Y2 += 0.00000003796 * Math.cos(4.54598861176 + 98.8999885246 * t);
-        Y2 += 0.00000003768 * Math.cos(4.99152883867 + 501.3797894433 * t);
-        Y2 += 0.00000004513 * Math.cos(1.80716596854 + 398.1440028728 * t);
-        Y2 += 0.00000003877 * Math.cos(3.70998482895 + 1781.0313497194 * t);
-        Y2 += 0.00000004428 * Math.cos(6.21808891979 + 1478.8665740644 * t);
-        Y2 += 0.00000004026 * Math.cos(1.47953978871 + 120.358249606 * t);
-        Y2 += 0.00000004198 * Math.cos(4.37815056603 + 1891.2376709388 * t);
-        Y2 += 0.00000004587 * Math.cos(3.67578748136 + 1685.0521225016 * t);
-        Y2 += 0.00000004530 * Math.cos(4.80061804389 + 1567.7322542814 * t);
-        Y2 += 0.00000004348 * Math.cos(0.05774649263 + 5856.4776591154 * t);
-        Y2 += 0.00000003573 * Math.cos(4.37750447178 + 156.6767441354 * t);
-        Y2 += 0.00000003394 * Math.cos(1.52844790239 + 196.0336200506 * t);
-        Y2 += 0.00000003533 * Math.cos(0.57565855894 + 114.3991069134 * t);
-        Y2 += 0.00000003641 * Math.cos(0.04003274809 + 166.828672522 * t);
-        Y2 += 0.00000003936 * Math.cos(1.67508528335 + 326.6868103951 * t);
-        Y2 += 0.00000003247 * Math.cos(2.67423610661 + 1677.9385755008 * t);
-        Y2 += 0.00000003738 * Math.cos(3.73493556150 + 526.5095713569 * t);
-        Y2 += 0.00000004069 * Math.cos(1.48284023947 + 9786.687355335 * t);
-        Y2 += 0.00000002980 * Math.cos(5.94251782395 + 151.0476698429 * t);
-        Y2 += 0.00000003742 * Math.cos(5.33557512257 + 849.2642284889 * t);
-        Y2 += 0.00000003047 * Math.cos(0.21958597767 + 230.5645708254 * t);
-        Y2 += 0.00000003648 * Math.cos(5.75342713476 + 611.4430983108 * t);
-        Y2 += 0.00000002922 * Math.cos(4.38271375342 + 1581.959348283 * t);
-        Y2 += 0.00000002819 * Math.cos(4.62496885979 + 431.264057322 * t);
-        Y2 += 0.00000002815 * Math.cos(3.70833186151 + 414.0680179038 * t);
-        Y2 += 0.00000002927 * Math.cos(0.75690409846 + 395.578702239 * t);
-        Y2 += 0.00000002893 * Math.cos(4.68195629987 + 381.3516082374 * t);
-        Y2 += 0.00000002669 * Math.cos(0.23163089942 + 306.0969289181 * t);
-        Y2 += 0.00000002803 * Math.cos(1.54793175537 + 259.769518354 * t);
-        Y2 += 0.00000002799 * Math.cos(1.64435927281 + 129.9194771616 * t);
-        Y2 += 0.00000003378 * Math.cos(0.03637154602 + 299.1263942692 * t);
-        Y2 += 0.00000002783 * Math.cos(4.12158984765 + 1286.9081196288 * t);
-        Y2 += 0.00000002557 * Math.cos(0.41569961768 + 59.8037450403 * t);
-        Y2 += 0.00000003374 * Math.cos(4.24961349276 + 69.1525242748 * t);
-        Y2 += 0.00000002649 * Math.cos(0.08633239547 + 84.9335269539 * t);
-        Y2 += 0.00000002771 * Math.cos(5.51441923038 + 320.3240229197 * t);
-        Y2 += 0.00000002909 * Math.cos(2.59078817253 + 137.0330241624 * t);
-        Y2 += 0.00000002465 * Math.cos(5.81534068526 + 572.2292347475 * t);
-        Y2 += 0.00000002461 * Math.cos(2.38415136907 + 409.1897031367 * t);
-        Y2 += 0.00000002443 * Math.cos(1.29249188449 + 1272.6810256272 * t);
-        Y2 += 0.00000002579 * Math.cos(3.41613819491 + 1493.093668066 * t);
-        Y2 += 0.00000002442 * Math.cos(2.95735834989 + 546.956440482 * t);
-        Y2 += 0.00000002536 * Math.cos(2.34085009776 + 696.5196376166 * t);
-        Y2 += 0.00000002428 * Math.cos(6.23679777999 + 45.5766510387 * t);
-        Y2 += 0.00000002318 * Math.cos(4.42637917857 + 343.2185725996 * t);
-        Y2 += 0.00000002813 * Math.cos(4.09700943877 + 421.93232443 * t);
-        Y2 += 0.00000002298 * Math.cos(1.85531273629 + 188.0263011725 * t);
-        Y2 += 0.00000002880 * Math.cos(0.56316732699 + 551.031606097 * t);
-        Y2 += 0.00000002256 * Math.cos(1.11650889937 + 554.0699874828 * t);
-        Y2 += 0.00000002211 * Math.cos(2.09170078196 + 275.5505210331 * t);
-        Y2 += 0.00000002512 * Math.cos(1.24402266178 + 312.1990839626 * t);
-        Y2 += 0.00000002193 * Math.cos(2.54074083075 + 205.2223405907 * t);
-        Y2 += 0.00000002193 * Math.cos(2.34888533584 + 221.3758502853 * t);
-        Y2 += 0.00000002332 * Math.cos(3.99762087333 + 144.1465711632 * t);
-        Y2 += 0.00000002398 * Math.cos(4.28707007713 + 532.8723588323 * t);
-        Y2 += 0.00000002849 * Math.cos(3.77789682092 + 92.0470739547 * t);
-        Y2 += 0.00000002162 * Math.cos(3.02953584766 + 238.5718897035 * t);
-        Y2 += 0.00000002604 * Math.cos(5.54796500632 + 927.8349679674 * t);
-        Y2 += 0.00000003001 * Math.cos(0.87555285269 + 6069.7767545534 * t);
-        Y2 += 0.00000002148 * Math.cos(3.42586788929 + 916.9322800554 * t);
-        Y2 += 0.00000002122 * Math.cos(4.75341405041 + 92.940845832 * t);
-        Y2 += 0.00000002767 * Math.cos(2.23440285883 + 9999.986450773 * t);
-        Y2 += 0.00000002081 * Math.cos(3.36077324824 + 188.9200730498 * t);
-        Y2 += 0.00000002175 * Math.cos(4.05922699845 + 432.2272651685 * t);
-        Y2 += 0.00000002268 * Math.cos(3.61370278398 + 2104.5367663768 * t);
-        Y2 += 0.00000002007 * Math.cos(0.02600377472 + 5643.1785636774 * t);
-        Y2 += 0.00000002555 * Math.cos(4.96787984600 + 229.9738699944 * t);
-        Y2 += 0.00000002555 * Math.cos(6.20493162777 + 196.6243208816 * t);
-        Y2 += 0.00000001894 * Math.cos(1.69980050572 + 1382.8873468466 * t);
-        Y2 += 0.00000001988 * Math.cos(4.20307991244 + 1141.1340634054 * t);
-        Y2 += 0.00000001954 * Math.cos(3.41365114640 + 2097.423219376 * t);
-        Y2 += 0.00000001941 * Math.cos(1.80523291315 + 373.9079928365 * t);
-        Y2 += 0.00000002353 * Math.cos(6.10168291345 + 650.1922270525 * t);
-        Y2 += 0.00000001955 * Math.cos(3.17983281108 + 2413.8150890326 * t);
-        Y2 += 0.00000001819 * Math.cos(1.46861515290 + 120.5012619579 * t);
-        Y2 += 0.00000001815 * Math.cos(1.41544549589 + 9573.388259897 * t);
-        Y2 += 0.00000002193 * Math.cos(6.27247954588 + 207.1487562837 * t);
-        Y2 += 0.00000002193 * Math.cos(4.90033192789 + 219.4494345923 * t);
-        Y2 += 0.00000002273 * Math.cos(4.49996826493 + 135.336103133 * t);
-        Y2 += 0.00000001791 * Math.cos(5.66600971254 + 99.9113804809 * t);
-        Y2 += 0.00000001786 * Math.cos(4.67044629573 + 237.6781178262 * t);
-        Y2 += 0.00000001819 * Math.cos(5.22350081042 + 220.4608265486 * t);
-        Y2 += 0.00000001819 * Math.cos(5.94931066335 + 206.1373643274 * t);
-        Y2 += 0.00000001775 * Math.cos(4.28100694137 + 116.4260963429 * t);
-        Y2 += 0.00000001777 * Math.cos(4.06756705442 + 1589.0728952838 * t);
-        Y2 += 0.00000001891 * Math.cos(3.37577508092 + 556.5176680376 * t);
-        Y2 += 0.00000002022 * Math.cos(4.82062172922 + 2008.557539159 * t);
-        Y2 += 0.00000002390 * Math.cos(5.29068620866 + 856.3777754897 * t);
-        Y2 += 0.00000001931 * Math.cos(2.21979858592 + 258.8757464767 * t);
-        Y2 += 0.00000001749 * Math.cos(4.52585501392 + 417.0369633204 * t);
-        Y2 += 0.00000001825 * Math.cos(0.29368090914 + 344.8460576598 * t);
-        Y2 += 0.00000002044 * Math.cos(5.98201068402 + 1795.258443721 * t);
-        Y2 += 0.00000001812 * Math.cos(5.74287970366 + 570.7447620392 * t);
-        Y2 += 0.00000001742 * Math.cos(3.80382436497 + 425.6349830295 * t);
-        Y2 += 0.00000001689 * Math.cos(1.94087093302 + 327.4375699205 * t);
-        Y2 += 0.00000002261 * Math.cos(1.53982829642 + 421.1815649046 * t);
-        Y2 += 0.00000001820 * Math.cos(3.09123068436 + 347.8844390456 * t);
-        Y2 += 0.00000001691 * Math.cos(0.86915956975 + 455.0523788792 * t);
-        Y2 += 0.00000001703 * Math.cos(1.25635241157 + 427.5613987225 * t);
-        Y2 += 0.00000001764 * Math.cos(1.22791432289 + 186.472392495 * t);
-        Y2 += 0.00000001749 * Math.cos(1.78920007271 + 898.7730327907 * t);
-        Y2 += 0.00000001663 * Math.cos(0.70583379773 + 145.6310438715 * t);
-        Y2 += 0.00000002282 * Math.cos(0.47292670815 + 439.1283638482 * t);
-        Y2 += 0.00000001687 * Math.cos(4.58551918588 + 519.3960243561 * t);
-        Y2 += 0.00000001795 * Math.cos(4.25046313837 + 913.0001267923 * t);
-        Y2 += 0.00000002103 * Math.cos(3.56257377771 + 2001.4439921582 * t);
-        Y2 += 0.00000001928 * Math.cos(1.64847154951 + 312.4597163935 * t);
-        Y2 += 0.00000001597 * Math.cos(4.15770465382 + 280.9671470045 * t);
-        Y2 += 0.00000001737 * Math.cos(0.17489616820 + 167.7224443993 * t);
-        Y2 += 0.00000002134 * Math.cos(1.38387224617 + 173.9422195228 * t);
-        Y2 += 0.00000001657 * Math.cos(3.99819302774 + 1457.525933062 * t);
-        Y2 += 0.00000002107 * Math.cos(2.96121116298 + 1485.9801210652 * t);
-        Y2 += 0.00000001726 * Math.cos(2.56063559984 + 486.4019359163 * t);
-        Y2 += 0.00000001608 * Math.cos(1.16665145047 + 3252.784376783 * t);
-        Y2 += 0.00000001819 * Math.cos(2.86390971329 + 206.233732547 * t);
-        Y2 += 0.00000001819 * Math.cos(2.02571645330 + 220.364458329 * t);
-        Y2 += 0.00000001690 * Math.cos(4.06888271137 + 2207.6295405954 * t);
-        Y2 += 0.00000001590 * Math.cos(4.82328890581 + 685.4739373527 * t);
-        Y2 += 0.00000001579 * Math.cos(5.01190493526 + 210.8514148832 * t);
-        Y2 += 0.00000001556 * Math.cos(1.08924884995 + 1905.4647649404 * t);
-        Y2 += 0.00000001708 * Math.cos(3.71571156744 + 81.8951455681 * t);
-        Y2 += 0.00000001441 * Math.cos(3.51719846434 + 732.6951197941 * t);
-        Y2 += 0.00000001895 * Math.cos(3.47646526553 + 291.262087743 * t);
-        Y2 += 0.00000001966 * Math.cos(4.80989076120 + 131.4039498699 * t);
-        Y2 += 0.00000001423 * Math.cos(5.55442193599 + 201.5196819912 * t);
-        Y2 += 0.00000001423 * Math.cos(5.61838953778 + 225.0785088848 * t);
-        Y2 += 0.00000001491 * Math.cos(0.52012009126 + 240.125798381 * t);
-        Y2 += 0.00000001913 * Math.cos(0.07514513304 + 295.1942410061 * t);
-        Y2 += 0.00000001586 * Math.cos(1.17791014057 + 3803.81598288 * t);
-        Y2 += 0.00000001495 * Math.cos(0.63703973970 + 1056.2005364515 * t);
-        Y2 += 0.00000001439 * Math.cos(0.12364835405 + 699.7010313543 * t);
-        Y2 += 0.00000001438 * Math.cos(3.07483474005 + 1802.3719907218 * t);
-        Y2 += 0.00000001326 * Math.cos(1.41662015141 + 980.6681783588 * t);
-        Y2 += 0.00000001805 * Math.cos(4.74583119029 + 4216.1870797544 * t);
-        Y2 += 0.00000001351 * Math.cos(0.82163520410 + 5429.8794682394 * t);
-        Y2 += 0.00000001414 * Math.cos(1.50148705867 + 1371.8416465827 * t);
-        Y2 += 0.00000001581 * Math.cos(5.27304223476 + 1244.226837624 * t);
-        Y2 += 0.00000001580 * Math.cos(4.99649873582 + 561.1835344836 * t);
-        Y2 += 0.00000001464 * Math.cos(0.92036676895 + 472.1748419147 * t);
-        Y2 += 0.00000001343 * Math.cos(4.95515927820 + 1055.4497769261 * t);
-        Y2 += 0.00000001260 * Math.cos(5.67257957480 + 850.0149880143 * t);
-        Y2 += 0.00000001287 * Math.cos(2.73723314006 + 28.4541880032 * t);
-        Y2 += 0.00000001457 * Math.cos(0.82523140286 + 3597.6304344428 * t);
-        Y2 += 0.00000001328 * Math.cos(1.01876573725 + 214.2623032845 * t);
-        Y2 += 0.00000001328 * Math.cos(3.87086042934 + 212.3358875915 * t);
-        Y2 += 0.00000001245 * Math.cos(2.24518120845 + 9360.089164459 * t);
-        Y2 += 0.00000001311 * Math.cos(4.68618251681 + 4113.0943055358 * t);
-        Y2 += 0.00000001664 * Math.cos(0.36159363492 + 252.6559713532 * t);
-        Y2 += 0.00000001205 * Math.cos(3.28772939852 + 1049.0869894507 * t);
-        Y2 += 0.00000001646 * Math.cos(4.59140776956 + 563.6312150384 * t);
-        Y2 += 0.00000001191 * Math.cos(0.54419432213 + 153.4953503977 * t);
-        Y2 += 0.00000001188 * Math.cos(6.25671522816 + 525.4981794006 * t);
-        Y2 += 0.00000001184 * Math.cos(2.77078103022 + 1994.3304451574 * t);
-        Y2 += 0.00000001223 * Math.cos(3.45895305129 + 905.8865797915 * t);
-        Y2 += 0.00000001222 * Math.cos(4.14095386183 + 213.3472795478 * t);
-        Y2 += 0.00000001222 * Math.cos(0.74867230476 + 213.2509113282 * t);
-        Y2 += 0.00000001257 * Math.cos(5.93589486535 + 629.6023455755 * t);
-        Y2 += 0.00000001167 * Math.cos(3.02278739432 + 193.655375465 * t);
-        Y2 += 0.00000001167 * Math.cos(1.86683877227 + 232.942815411 * t);
-        Y2 += 0.00000001164 * Math.cos(4.94621977070 + 148.0787244263 * t);
-        Y2 += 0.00000001596 * Math.cos(4.59579152366 + 1884.124123938 * t);
-        Y2 += 0.00000001536 * Math.cos(1.03704208468 + 3693.6096616606 * t);
-        Y2 += 0.00000001339 * Math.cos(4.42212893352 + 1898.3512179396 * t);
-        Y2 += 0.00000001137 * Math.cos(3.59027879357 + 2641.3412784722 * t);
-        Y2 += 0.00000001370 * Math.cos(4.97502462959 + 835.7878940127 * t);
-        Y2 += 0.00000001107 * Math.cos(2.54015999967 + 2310.722314814 * t);
-        Y2 += 0.00000001160 * Math.cos(4.32688430133 + 67.6680515665 * t);
-        Y2 += 0.00000001276 * Math.cos(4.57782455431 + 1176.7017984094 * t);
-        Y2 += 0.00000001122 * Math.cos(2.45856567122 + 128.3655684841 * t);
-        Y2 += 0.00000001305 * Math.cos(2.25261819091 + 96.8729990951 * t);
-        Y2 += 0.00000001197 * Math.cos(5.01667820627 + 4209.0735327536 * t);
-        Y2 += 0.00000001321 * Math.cos(5.69067622276 + 355.7487455718 * t);
-        Y2 += 0.00000001092 * Math.cos(0.15329393473 + 525.7588118315 * t);
-        Y2 += 0.00000001313 * Math.cos(5.46638052649 + 38.1330356378 * t);
-        Y2 += 0.00000001103 * Math.cos(5.24996982319 + 739.0579072695 * t);
-        Y2 += 0.00000001024 * Math.cos(6.03645869910 + 5636.0650166766 * t);
-        Y2 += 0.00000001012 * Math.cos(2.02490236228 + 211.6021744086 * t);
-        Y2 += 0.00000001012 * Math.cos(2.86472380431 + 214.9960164674 * t);
-        Y2 += 0.00000001000 * Math.cos(4.59565320814 + 776.9303104764 * t);
-        Y2 += 0.00000001241 * Math.cos(4.41224004220 + 2193.4024465938 * t);
-        Y2 += 0.00000001125 * Math.cos(0.61961503719 + 3914.0223040994 * t);
-        Y2 += 0.00000001212 * Math.cos(2.74105995095 + 2627.1141844706 * t);
-        Y2 += 0.00000001014 * Math.cos(3.56962332387 + 2516.9078632512 * t);
-        Y2 += 0.00000000954 * Math.cos(1.51108884016 + 206.706813299 * t);
-        Y2 += 0.00000000954 * Math.cos(3.37853732643 + 219.891377577 * t);
-        Y2 += 0.00000001134 * Math.cos(1.97815267667 + 92.7978334801 * t);
-        Y2 += 0.00000001041 * Math.cos(3.23233571279 + 3178.1457905676 * t);
-        Y2 += 0.00000001094 * Math.cos(3.06630520047 + 2730.2069586892 * t);
-        Y2 += 0.00000000999 * Math.cos(3.11265581262 + 2406.7015420318 * t);
-        Y2 += 0.00000000973 * Math.cos(6.27346363694 + 181.806526049 * t);
-        Y2 += 0.00000000973 * Math.cos(1.75775518324 + 244.791664827 * t);
-        Y2 += 0.00000000941 * Math.cos(3.53095210851 + 739.8086667949 * t);
-        Y2 += 0.00000001054 * Math.cos(3.24298004303 + 2634.2277314714 * t);
-        Y2 += 0.00000001156 * Math.cos(4.96571827287 + 1560.6187072806 * t);
-        Y2 += 0.00000001008 * Math.cos(4.00176629932 + 254.9435932136 * t);
-        Y2 += 0.00000000990 * Math.cos(0.01303950026 + 4120.2078525366 * t);
-        Y2 += 0.00000001113 * Math.cos(3.86892203772 + 2524.021410252 * t);
-        Y2 += 0.00000000917 * Math.cos(5.96810093164 + 601.7642506762 * t);
-        Y2 += 0.00000000939 * Math.cos(5.19502728821 + 2936.3925071264 * t);
-        Y2 += 0.00000001116 * Math.cos(4.64049818808 + 2324.9494088156 * t);
-        Y2 += 0.00000000918 * Math.cos(0.71003260736 + 714.5358725294 * t);
-        Y2 += 0.00000000999 * Math.cos(4.06676744721 + 171.6545976624 * t);
-        Y2 += 0.00000001134 * Math.cos(5.94161973674 + 3782.4753418776 * t);
-        Y2 += 0.00000000984 * Math.cos(0.88646918920 + 2221.856634597 * t);
-        Y2 += 0.00000000950 * Math.cos(3.82757616527 + 1809.4855377226 * t);
-        Y2 += 0.00000001158 * Math.cos(5.47288930030 + 3995.7744373156 * t);
-        Y2 += 0.00000000899 * Math.cos(1.16276249362 + 9566.2747128962 * t);
-        Y2 += 0.00000001002 * Math.cos(4.46394843643 + 60.7669528868 * t);
-        Y2 += 0.00000000897 * Math.cos(2.73761578991 + 3494.5376602242 * t);
-        Y2 += 0.00000000956 * Math.cos(3.59264934611 + 2317.8358618148 * t);
-        Y2 += 0.00000000882 * Math.cos(3.45281377344 + 1773.9178027186 * t);
-        Y2 += 0.00000001101 * Math.cos(3.13667172657 + 2332.0629558164 * t);
-        Y2 += 0.00000000883 * Math.cos(0.14085296374 + 622.4887985747 * t);
-        Y2 += 0.00000000903 * Math.cos(1.70433886791 + 838.218528225 * t);
-        Y2 += 0.00000000920 * Math.cos(1.69749373479 + 458.8415197904 * t);
-        Y2 += 0.00000000891 * Math.cos(0.82111399765 + 1262.3860848887 * t);
-        Y2 += 0.00000001168 * Math.cos(0.25468840622 + 3906.9087570986 * t);
-        Y2 += 0.00000001103 * Math.cos(5.29906832904 + 4002.8879843164 * t);
-        Y2 += 0.00000000925 * Math.cos(5.21215658970 + 731.6837278378 * t);
-        Y2 += 0.00000000909 * Math.cos(1.30371158475 + 745.9108218394 * t);
-        Y2 += 0.00000001018 * Math.cos(3.59536645659 + 558.0021407459 * t);
-        Y2 += 0.00000000903 * Math.cos(0.18176721951 + 823.9914342234 * t);
-        Y2 += 0.00000000840 * Math.cos(1.97666011108 + 610.6923387854 * t);
-        Y2 += 0.00000000887 * Math.cos(3.46857320111 + 1037.2905296614 * t);
-        Y2 += 0.00000001156 * Math.cos(1.16648756429 + 2964.8466951296 * t);
-        Y2 += 0.00000000847 * Math.cos(4.97551009586 + 3377.217792004 * t);
-        Y2 += 0.00000000945 * Math.cos(5.98539579259 + 1051.517623663 * t);
-        Y2 += 0.00000000875 * Math.cos(5.17703782078 + 731.9443602687 * t);
-        Y2 += 0.00000000871 * Math.cos(4.70133426692 + 397.3932433474 * t);
-        Y2 += 0.00000000810 * Math.cos(4.41261482309 + 835.0371344873 * t);
-        Y2 += 0.00000000926 * Math.cos(3.77259745562 + 6076.8903015542 * t);
-        Y2 += 0.00000000818 * Math.cos(4.77834353092 + 3700.7232086614 * t);
-        Y2 += 0.00000000801 * Math.cos(3.28824778134 + 3686.4961146598 * t);
-        Y2 += 0.00000000846 * Math.cos(1.14796661681 + 3067.9394693482 * t);
-        Y2 += 0.00000000853 * Math.cos(1.95779608562 + 1912.5783119412 * t);
-        Y2 += 0.00000001042 * Math.cos(4.51072806644 + 4532.578949411 * t);
-        Y2 += 0.00000000836 * Math.cos(3.30367731513 + 2833.2997329078 * t);
-        Y2 += 0.00000000964 * Math.cos(5.79852972922 + 329.7251917809 * t);
-        Y2 += 0.00000001008 * Math.cos(2.05921424187 + 203.2647871304 * t);
-        Y2 += 0.00000001008 * Math.cos(2.83041192472 + 223.3334037456 * t);
-        Y2 += 0.00000000791 * Math.cos(0.44199384843 + 201.9927627432 * t);
-        Y2 += 0.00000000791 * Math.cos(4.44763231816 + 224.6054281328 * t);
-        Y2 += 0.00000000776 * Math.cos(3.11238011428 + 6062.6632075526 * t);
-        Y2 += 0.00000000868 * Math.cos(4.18895614941 + 624.919432787 * t);
-        Y2 += 0.00000000803 * Math.cos(0.12271627005 + 4.665866446 * t);
-        Y2 += 0.00000000948 * Math.cos(0.11270822957 + 215.7467759928 * t);
-        Y2 += 0.00000000818 * Math.cos(3.42867198731 + 305.3461693927 * t);
-        Y2 += 0.00000000826 * Math.cos(3.99063604806 + 2214.7430875962 * t);
-        Y2 += 0.00000000864 * Math.cos(5.19762795666 + 10007.0999977738 * t);
-        Y2 += 0.00000000962 * Math.cos(3.76392685043 + 214.0498549634 * t);
-        Y2 += 0.00000000962 * Math.cos(1.12569931616 + 212.5483359126 * t);
-        Y2 += 0.00000000804 * Math.cos(0.07795599025 + 411.620337349 * t);
-        Y2 += 0.00000000750 * Math.cos(4.63483469672 + 4422.3726281916 * t);
-        Y2 += 0.00000000744 * Math.cos(3.08653093986 + 278.5194664497 * t);
-        Y2 += 0.00000000743 * Math.cos(3.13775662089 + 1119.1856752295 * t);
-        Y2 += 0.00000000879 * Math.cos(5.06060879535 + 3487.4241132234 * t);
-        Y2 += 0.00000000759 * Math.cos(4.79928618962 + 778.4147831847 * t);
-        Y2 += 0.00000000744 * Math.cos(5.28551554864 + 504.561183181 * t);
-        Y2 += 0.00000000745 * Math.cos(2.26212763756 + 842.9014410135 * t);
-        Y2 += 0.00000000756 * Math.cos(4.75493097410 + 1038.0412891868 * t);
-        Y2 += 0.00000001004 * Math.cos(2.14151892609 + 945.9942152321 * t);
-        Y2 += 0.00000000726 * Math.cos(4.54313688481 + 9992.8729037722 * t);
-        Y2 += 0.00000000746 * Math.cos(4.94420073742 + 1080.7225711916 * t);
-        Y2 += 0.00000000761 * Math.cos(4.44729002083 + 4429.4861751924 * t);
-        Y2 += 0.00000000954 * Math.cos(1.01894622930 + 205.6642835754 * t);
-        Y2 += 0.00000000954 * Math.cos(3.87067993729 + 220.9339073006 * t);
-        Y2 += 0.00000000709 * Math.cos(3.24073025080 + 2118.7638603784 * t);
-        Y2 += 0.00000000943 * Math.cos(0.52469754606 + 953.1077622329 * t);
-        Y2 += 0.00000000753 * Math.cos(3.47512241950 + 305.0855369618 * t);
-        Y2 += 0.00000000873 * Math.cos(4.14443296922 + 2509.7943162504 * t);
-        Y2 += 0.00000000693 * Math.cos(3.94239436037 + 637.4496057592 * t);
-        Y2 += 0.00000000732 * Math.cos(5.17759694477 + 172.2452984934 * t);
-        Y2 += 0.00000000732 * Math.cos(2.85362187541 + 254.3528923826 * t);
-        Y2 += 0.00000000945 * Math.cos(5.83450274601 + 388.4651552382 * t);
-        Y2 += 0.00000000813 * Math.cos(3.83625059019 + 2420.9286360334 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 201 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00077376615 * Math.cos(1.40391048961 + 206.1855484372 * t);
-        Y3 += 0.00075564351 * Math.cos(0.31962896379 + 220.4126424388 * t);
-        Y3 -= 0.00022843837;
-        Y3 += 0.00010672263 * Math.cos(5.36495663820 + 426.598190876 * t);
-        Y3 += 0.00009010175 * Math.cos(5.62865146645 + 433.7117378768 * t);
-        Y3 += 0.00007418018 * Math.cos(0.21442310101 + 227.5261894396 * t);
-        Y3 += 0.00008298723 * Math.cos(1.52262563519 + 7.1135470008 * t);
-        Y3 += 0.00004507061 * Math.cos(0.67248969480 + 419.4846438752 * t);
-        Y3 += 0.00003581682 * Math.cos(1.51466786030 + 199.0720014364 * t);
-        Y3 += 0.00002981969 * Math.cos(4.42868951627 + 639.897286314 * t);
-        Y3 += 0.00002376221 * Math.cos(1.46232779180 + 14.2270940016 * t);
-        Y3 += 0.00001024263 * Math.cos(4.72337917196 + 647.0108333148 * t);
-        Y3 += 0.00000788826 * Math.cos(5.61078104123 + 440.8252848776 * t);
-        Y3 += 0.00000807916 * Math.cos(5.99385575552 + 216.4804891757 * t);
-        Y3 += 0.00000770831 * Math.cos(2.04234808917 + 210.1177017003 * t);
-        Y3 += 0.00000384210 * Math.cos(1.48542445090 + 117.3198682202 * t);
-        Y3 += 0.00000456443 * Math.cos(3.56523371093 + 853.196381752 * t);
-        Y3 += 0.00000324148 * Math.cos(0.08074667476 + 234.6397364404 * t);
-        Y3 += 0.00000338016 * Math.cos(2.47226721573 + 110.2063212194 * t);
-        Y3 += 0.00000355769 * Math.cos(5.40701066557 + 213.299095438 * t);
-        Y3 += 0.00000296603 * Math.cos(0.32077836251 + 412.3710968744 * t);
-        Y3 += 0.00000241378 * Math.cos(1.79772375424 + 103.0927742186 * t);
-        Y3 += 0.00000198202 * Math.cos(5.51857978716 + 316.3918696566 * t);
-        Y3 += 0.00000195234 * Math.cos(0.72153771655 + 632.7837393132 * t);
-        Y3 += 0.00000150777 * Math.cos(0.77624311648 + 323.5054166574 * t);
-        Y3 += 0.00000154028 * Math.cos(1.31543626425 + 21.3406410024 * t);
-        Y3 += 0.00000151698 * Math.cos(1.38281351365 + 309.2783226558 * t);
-        Y3 += 0.00000131653 * Math.cos(2.26722574599 + 95.9792272178 * t);
-        Y3 += 0.00000125170 * Math.cos(6.14972338278 + 209.3669421749 * t);
-        Y3 += 0.00000113221 * Math.cos(1.84141052645 + 217.2312487011 * t);
-        Y3 += 0.00000111239 * Math.cos(3.84668749918 + 860.3099287528 * t);
-        Y3 += 0.00000087163 * Math.cos(1.60174328814 + 191.9584544356 * t);
-        Y3 += 0.00000114537 * Math.cos(5.87729837758 + 223.5940361765 * t);
-        Y3 += 0.00000085241 * Math.cos(0.33009287077 + 330.6189636582 * t);
-        Y3 += 0.00000085136 * Math.cos(4.74614465215 + 654.1243803156 * t);
-        Y3 += 0.00000079372 * Math.cos(2.67260966241 + 88.865680217 * t);
-        Y3 += 0.00000078274 * Math.cos(6.27419421323 + 124.433415221 * t);
-        Y3 += 0.00000074114 * Math.cos(1.88903477580 + 302.164775655 * t);
-        Y3 += 0.00000087336 * Math.cos(5.08195542296 + 429.7795846137 * t);
-        Y3 += 0.00000055318 * Math.cos(1.56951361659 + 202.2533951741 * t);
-        Y3 += 0.00000054081 * Math.cos(0.16896886000 + 224.3447957019 * t);
-        Y3 += 0.00000045789 * Math.cos(2.00674179989 + 625.6701923124 * t);
-        Y3 += 0.00000057974 * Math.cos(2.26359334860 + 203.0041546995 * t);
-        Y3 += 0.00000056136 * Math.cos(2.75728925790 + 1066.49547719 * t);
-        Y3 += 0.00000036709 * Math.cos(5.51643477597 + 447.9388318784 * t);
-        Y3 += 0.00000043284 * Math.cos(4.94816449709 + 422.6660376129 * t);
-        Y3 += 0.00000025777 * Math.cos(3.78412773568 + 3.9321532631 * t);
-        Y3 += 0.00000027097 * Math.cos(1.95819765953 + 423.4167971383 * t);
-        Y3 += 0.00000025216 * Math.cos(4.21346269317 + 522.5774180938 * t);
-        Y3 += 0.00000018670 * Math.cos(5.77487903074 + 515.463871093 * t);
-        Y3 += 0.00000017669 * Math.cos(3.86152764852 + 195.1398481733 * t);
-        Y3 += 0.00000015244 * Math.cos(3.68776396232 + 11.0457002639 * t);
-        Y3 += 0.00000015477 * Math.cos(5.79275389870 + 536.8045120954 * t);
-        Y3 += 0.00000012459 * Math.cos(5.85161085641 + 437.6438911399 * t);
-        Y3 += 0.00000011569 * Math.cos(1.45834921416 + 618.5566453116 * t);
-        Y3 += 0.00000010183 * Math.cos(5.57013967818 + 337.732510659 * t);
-        Y3 += 0.00000009663 * Math.cos(2.89192389329 + 81.7521332162 * t);
-        Y3 += 0.00000011351 * Math.cos(3.02135945276 + 1073.6090241908 * t);
-        Y3 += 0.00000009885 * Math.cos(5.68206370029 + 131.5469622218 * t);
-        Y3 += 0.00000011913 * Math.cos(5.03981077547 + 436.8931316145 * t);
-        Y3 += 0.00000009951 * Math.cos(5.66017560607 + 543.9180590962 * t);
-        Y3 += 0.00000008812 * Math.cos(6.08120926609 + 831.8557407496 * t);
-        Y3 += 0.00000008222 * Math.cos(2.09131673945 + 295.0512286542 * t);
-        Y3 += 0.00000008329 * Math.cos(3.90263564155 + 867.4234757536 * t);
-        Y3 += 0.00000008291 * Math.cos(4.91363846303 + 728.762966531 * t);
-        Y3 += 0.00000007561 * Math.cos(5.38689397533 + 149.5631971346 * t);
-        Y3 += 0.00000008632 * Math.cos(4.22779824805 + 643.0786800517 * t);
-        Y3 += 0.00000007340 * Math.cos(0.62446686551 + 846.0828347512 * t);
-        Y3 += 0.00000007109 * Math.cos(4.07508151963 + 635.9651330509 * t);
-        Y3 += 0.00000006932 * Math.cos(1.07981679851 + 231.4583427027 * t);
-        Y3 += 0.00000005842 * Math.cos(5.59806189386 + 269.9214467406 * t);
-        Y3 += 0.00000006550 * Math.cos(0.49524007864 + 408.4389436113 * t);
-        Y3 += 0.00000005275 * Math.cos(3.88157561156 + 742.9900605326 * t);
-        Y3 += 0.00000007034 * Math.cos(1.52021874624 + 18.1592472647 * t);
-        Y3 += 0.00000005426 * Math.cos(6.23004509808 + 241.7532834412 * t);
-        Y3 += 0.00000006265 * Math.cos(3.21841918334 + 735.8765135318 * t);
-        Y3 += 0.00000005328 * Math.cos(3.56494620223 + 416.3032501375 * t);
-        Y3 += 0.00000005005 * Math.cos(2.34522240082 + 277.0349937414 * t);
-        Y3 += 0.00000006072 * Math.cos(3.27968409813 + 430.5303441391 * t);
-        Y3 += 0.00000005093 * Math.cos(3.85217305978 + 415.5524906121 * t);
-        Y3 += 0.00000005737 * Math.cos(1.92668332911 + 1279.794572628 * t);
-        Y3 += 0.00000004670 * Math.cos(6.21938669397 + 529.6909650946 * t);
-        Y3 += 0.00000004587 * Math.cos(3.05441582756 + 56.6223513026 * t);
-        Y3 += 0.00000004082 * Math.cos(3.45450968447 + 1059.3819301892 * t);
-        Y3 += 0.00000004078 * Math.cos(1.22387025939 + 838.9692877504 * t);
-        Y3 += 0.00000004517 * Math.cos(1.01678299139 + 942.062061969 * t);
-        Y3 += 0.00000004049 * Math.cos(4.76798056225 + 483.2205421786 * t);
-        Y3 += 0.00000003683 * Math.cos(1.92667696990 + 70.8494453042 * t);
-        Y3 += 0.00000003558 * Math.cos(6.14015198465 + 508.3503240922 * t);
-        Y3 += 0.00000003702 * Math.cos(4.99766931310 + 184.8449074348 * t);
-        Y3 += 0.00000003758 * Math.cos(4.69738792182 + 661.2379273164 * t);
-        Y3 += 0.00000003531 * Math.cos(0.19316056256 + 956.2891559706 * t);
-        Y3 += 0.00000003544 * Math.cos(5.19943850042 + 750.1036075334 * t);
-        Y3 += 0.00000003856 * Math.cos(1.00534599914 + 934.9485149682 * t);
-        Y3 += 0.00000003331 * Math.cos(5.77295446897 + 1148.2476104062 * t);
-        Y3 += 0.00000003016 * Math.cos(0.85072422054 + 405.2575498736 * t);
-        Y3 += 0.00000002913 * Math.cos(4.85389224022 + 1045.1548361876 * t);
-        Y3 += 0.00000002988 * Math.cos(3.65899809970 + 398.1440028728 * t);
-        Y3 += 0.00000002634 * Math.cos(3.68558280810 + 497.4476361802 * t);
-        Y3 += 0.00000003134 * Math.cos(0.10698641533 + 99.9113804809 * t);
-        Y3 += 0.00000002625 * Math.cos(4.35671067549 + 362.8622925726 * t);
-        Y3 += 0.00000002488 * Math.cos(5.59994597708 + 1464.6394800628 * t);
-        Y3 += 0.00000002597 * Math.cos(0.47099450841 + 3.1813937377 * t);
-        Y3 += 0.00000002356 * Math.cos(0.69069106204 + 10.2949407385 * t);
-        Y3 += 0.00000002640 * Math.cos(0.85341396103 + 113.3877149571 * t);
-        Y3 += 0.00000002163 * Math.cos(4.65276596776 + 85.8272988312 * t);
-        Y3 += 0.00000002285 * Math.cos(1.19717455829 + 611.4430983108 * t);
-        Y3 += 0.00000002126 * Math.cos(5.70068892104 + 2641.3412784722 * t);
-        Y3 += 0.00000002139 * Math.cos(0.83753177595 + 1258.4539316256 * t);
-        Y3 += 0.00000002341 * Math.cos(0.59778909735 + 2111.6503133776 * t);
-        Y3 += 0.00000001947 * Math.cos(5.00537989779 + 650.9429865779 * t);
-        Y3 += 0.00000002670 * Math.cos(5.34319853125 + 195.8906076987 * t);
-        Y3 += 0.00000002670 * Math.cos(5.82961294252 + 230.7075831773 * t);
-        Y3 += 0.00000001977 * Math.cos(3.54209313030 + 1375.7737998458 * t);
-        Y3 += 0.00000001985 * Math.cos(1.48344430796 + 2538.2485042536 * t);
-        Y3 += 0.00000002132 * Math.cos(6.24195050544 + 824.7421937488 * t);
-        Y3 += 0.00000001881 * Math.cos(6.22942122495 + 344.7030453079 * t);
-        Y3 += 0.00000002058 * Math.cos(0.97339401280 + 927.8349679674 * t);
-        Y3 += 0.00000001803 * Math.cos(0.28058928924 + 191.2076949102 * t);
-        Y3 += 0.00000002065 * Math.cos(2.16335972331 + 636.7158925763 * t);
-        Y3 += 0.00000001622 * Math.cos(4.38588433956 + 1596.1864422846 * t);
-        Y3 += 0.00000001912 * Math.cos(1.55609472462 + 2634.2277314714 * t);
-        Y3 += 0.00000001568 * Math.cos(1.46883712025 + 235.3904959658 * t);
-        Y3 += 0.00000001617 * Math.cos(3.46868055477 + 1354.4331588434 * t);
-        Y3 += 0.00000001596 * Math.cos(3.07896109863 + 2015.6710861598 * t);
-        Y3 += 0.00000001541 * Math.cos(3.48264306776 + 721.6494195302 * t);
-        Y3 += 0.00000002091 * Math.cos(3.75685134157 + 106.2741679563 * t);
-        Y3 += 0.00000002086 * Math.cos(0.06751029490 + 444.7574381407 * t);
-        Y3 += 0.00000001666 * Math.cos(3.27206561790 + 1877.0105769372 * t);
-        Y3 += 0.00000001480 * Math.cos(1.20429336070 + 6290.1893969922 * t);
-        Y3 += 0.00000001480 * Math.cos(0.55460477853 + 5849.3641121146 * t);
-        Y3 += 0.00000001465 * Math.cos(5.75128324979 + 5863.5912061162 * t);
-        Y3 += 0.00000001465 * Math.cos(2.29080017866 + 6275.9623029906 * t);
-        Y3 += 0.00000001651 * Math.cos(0.67163171570 + 1251.3403846248 * t);
-        Y3 += 0.00000001632 * Math.cos(1.34059417592 + 2943.5060541272 * t);
-        Y3 += 0.00000001549 * Math.cos(1.85314072632 + 2840.4132799086 * t);
-        Y3 += 0.00000001495 * Math.cos(2.98148025490 + 284.1485407422 * t);
-        Y3 += 0.00000001939 * Math.cos(2.07057795187 + 2420.9286360334 * t);
-        Y3 += 0.00000001609 * Math.cos(1.54974241176 + 2627.1141844706 * t);
-        Y3 += 0.00000001707 * Math.cos(1.76728968158 + 2317.8358618148 * t);
-        Y3 += 0.00000001608 * Math.cos(0.36802699660 + 1574.8458012822 * t);
-        Y3 += 0.00000001399 * Math.cos(3.25289482572 + 1670.82502850 * t);
-        Y3 += 0.00000001389 * Math.cos(6.02263502114 + 2516.9078632512 * t);
-        Y3 += 0.00000001310 * Math.cos(4.96087795521 + 1361.5467058442 * t);
-        Y3 += 0.00000001288 * Math.cos(3.55946973538 + 1052.2683831884 * t);
-        Y3 += 0.00000001401 * Math.cos(0.31555359079 + 142.4496501338 * t);
-        Y3 += 0.00000001293 * Math.cos(4.48180993899 + 2751.5475996916 * t);
-        Y3 += 0.00000001405 * Math.cos(0.68391140599 + 1244.226837624 * t);
-        Y3 += 0.00000001311 * Math.cos(3.36443749410 + 1692.1656695024 * t);
-        Y3 += 0.00000001383 * Math.cos(3.58356448743 + 949.1756089698 * t);
-        Y3 += 0.00000001417 * Math.cos(4.03665624936 + 1038.0412891868 * t);
-        Y3 += 0.00000001300 * Math.cos(5.39614568744 + 1781.0313497194 * t);
-        Y3 += 0.00000001193 * Math.cos(0.78248411075 + 208.633228992 * t);
-        Y3 += 0.00000001193 * Math.cos(4.10714205584 + 217.964961884 * t);
-        Y3 += 0.00000001171 * Math.cos(6.04131034114 + 67.6680515665 * t);
-        Y3 += 0.00000001131 * Math.cos(2.79794597235 + 1987.2168981566 * t);
-        Y3 += 0.00000001184 * Math.cos(0.80111846132 + 2214.7430875962 * t);
-        Y3 += 0.00000001141 * Math.cos(5.72568661760 + 1141.1340634054 * t);
-        Y3 += 0.00000001301 * Math.cos(5.09290499928 + 1677.9385755008 * t);
-        Y3 += 0.00000001288 * Math.cos(1.29942333880 + 2950.619601128 * t);
-        Y3 += 0.00000001457 * Math.cos(0.99248805007 + 2531.1349572528 * t);
-        Y3 += 0.00000001450 * Math.cos(0.55337290194 + 1272.6810256272 * t);
-        Y3 += 0.00000001366 * Math.cos(6.21957347335 + 160.6088973985 * t);
-        Y3 += 0.00000001072 * Math.cos(4.60413355250 + 2435.155730035 * t);
-        Y3 += 0.00000001043 * Math.cos(2.37828937153 + 156.6767441354 * t);
-        Y3 += 0.00000001114 * Math.cos(1.51992635023 + 1802.3719907218 * t);
-        Y3 += 0.00000001138 * Math.cos(1.07669045985 + 3259.8979237838 * t);
-        Y3 += 0.00000000940 * Math.cos(0.33745097450 + 52.6901980395 * t);
-        Y3 += 0.00000001052 * Math.cos(0.39800410793 + 1560.6187072806 * t);
-        Y3 += 0.00000001229 * Math.cos(0.08723623518 + 1567.7322542814 * t);
-        Y3 += 0.00000001026 * Math.cos(0.61823553841 + 3156.8051495652 * t);
-        Y3 += 0.00000000892 * Math.cos(3.29998766977 + 340.7708920448 * t);
-        Y3 += 0.00000000889 * Math.cos(5.13462662304 + 358.9301393095 * t);
-        Y3 += 0.00000000945 * Math.cos(5.33287321961 + 1773.9178027186 * t);
-        Y3 += 0.00000000889 * Math.cos(2.33106713811 + 107.0249274817 * t);
-        Y3 += 0.00000000870 * Math.cos(0.17225649920 + 621.7380390493 * t);
-        Y3 += 0.00000001004 * Math.cos(1.79393659890 + 1169.5882514086 * t);
-        Y3 += 0.00000000841 * Math.cos(5.76737390177 + 2833.2997329078 * t);
-        Y3 += 0.00000000845 * Math.cos(4.49649956754 + 2730.2069586892 * t);
-        Y3 += 0.00000000773 * Math.cos(3.99924716391 + 1162.4747044078 * t);
-        Y3 += 0.00000000986 * Math.cos(5.98655793699 + 2200.5159935946 * t);
-        Y3 += 0.00000000772 * Math.cos(5.37044694274 + 319.5732633943 * t);
-        Y3 += 0.00000000780 * Math.cos(3.83450571144 + 288.0806940053 * t);
-        Y3 += 0.00000000780 * Math.cos(4.19671310874 + 138.5174968707 * t);
-        Y3 += 0.00000000964 * Math.cos(4.07945276922 + 1795.258443721 * t);
-        Y3 += 0.00000001023 * Math.cos(0.89342926110 + 1382.8873468466 * t);
-        Y3 += 0.00000000980 * Math.cos(1.81164890909 + 265.9892934775 * t);
-        Y3 += 0.00000000761 * Math.cos(3.54194549571 + 628.8515860501 * t);
-        Y3 += 0.00000000810 * Math.cos(6.05054198296 + 2524.021410252 * t);
-        Y3 += 0.00000000749 * Math.cos(2.07949757307 + 1809.4855377226 * t);
-        Y3 += 0.00000000883 * Math.cos(5.97568793053 + 1891.2376709388 * t);
-        Y3 += 0.00000000856 * Math.cos(3.30227852657 + 2008.557539159 * t);
-        Y3 += 0.00000000727 * Math.cos(0.93197698209 + 245.5424243524 * t);
-        Y3 += 0.00000000727 * Math.cos(0.81605653091 + 181.0557665236 * t);
-        Y3 += 0.00000000747 * Math.cos(5.49849719458 + 1994.3304451574 * t);
-        Y3 += 0.00000000856 * Math.cos(0.85986163419 + 2847.5268269094 * t);
-        Y3 += 0.00000000807 * Math.cos(2.87880371744 + 1912.5783119412 * t);
-        Y3 += 0.00000000787 * Math.cos(0.41063399377 + 2332.0629558164 * t);
-        Y3 += 0.00000000701 * Math.cos(1.98280933247 + 9779.5738083342 * t);
-        Y3 += 0.00000000701 * Math.cos(2.62299327327 + 10220.3990932118 * t);
-        Y3 += 0.00000000709 * Math.cos(5.45403624686 + 1457.525933062 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 88 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00007978886 * Math.cos(3.13229268011 + 206.1855484372 * t);
-        Y4 += 0.00007868379 * Math.cos(4.84940260021 + 220.4126424388 * t);
-        Y4 += 0.00001514835 * Math.cos(4.77675733867 + 227.5261894396 * t);
-        Y4 += 0.00001225569 * Math.cos(3.84500138574 + 433.7117378768 * t);
-        Y4 += 0.00000720573 * Math.cos(3.23773181595 + 199.0720014364 * t);
-        Y4 += 0.00000609979 * Math.cos(5.96461769948 + 7.1135470008 * t);
-        Y4 += 0.00000353860 * Math.cos(2.57548318224 + 419.4846438752 * t);
-        Y4 += 0.00000382994 * Math.cos(6.00399581554 + 14.2270940016 * t);
-        Y4 -= 0.00000469340;
-        Y4 += 0.00000403662 * Math.cos(3.41614173802 + 426.598190876 * t);
-        Y4 += 0.00000185465 * Math.cos(3.86274212431 + 440.8252848776 * t);
-        Y4 += 0.00000208259 * Math.cos(2.57791157635 + 639.897286314 * t);
-        Y4 += 0.00000172118 * Math.cos(2.90478987674 + 647.0108333148 * t);
-        Y4 += 0.00000097307 * Math.cos(3.40223422689 + 213.299095438 * t);
-        Y4 += 0.00000084185 * Math.cos(4.62368663332 + 234.6397364404 * t);
-        Y4 += 0.00000043451 * Math.cos(6.08812379890 + 117.3198682202 * t);
-        Y4 += 0.00000046432 * Math.cos(1.67433282568 + 853.196381752 * t);
-        Y4 += 0.00000042226 * Math.cos(2.13000934788 + 412.3710968744 * t);
-        Y4 += 0.00000029947 * Math.cos(5.90543316589 + 21.3406410024 * t);
-        Y4 += 0.00000022585 * Math.cos(2.97492806608 + 654.1243803156 * t);
-        Y4 += 0.00000018023 * Math.cos(3.32864810894 + 309.2783226558 * t);
-        Y4 += 0.00000020733 * Math.cos(3.40067848410 + 103.0927742186 * t);
-        Y4 += 0.00000016785 * Math.cos(4.38743014498 + 124.433415221 * t);
-        Y4 += 0.00000021614 * Math.cos(2.00589132562 + 860.3099287528 * t);
-        Y4 += 0.00000016096 * Math.cos(4.54858886737 + 88.865680217 * t);
-        Y4 += 0.00000015292 * Math.cos(3.76962773546 + 302.164775655 * t);
-        Y4 += 0.00000015000 * Math.cos(4.10018537649 + 95.9792272178 * t);
-        Y4 += 0.00000012174 * Math.cos(3.42898602458 + 191.9584544356 * t);
-        Y4 += 0.00000011676 * Math.cos(5.27063573454 + 323.5054166574 * t);
-        Y4 += 0.00000012054 * Math.cos(3.74475270374 + 447.9388318784 * t);
-        Y4 += 0.00000013392 * Math.cos(2.72202073311 + 632.7837393132 * t);
-        Y4 += 0.00000011585 * Math.cos(4.76605780772 + 330.6189636582 * t);
-        Y4 += 0.00000011837 * Math.cos(0.66874515167 + 110.2063212194 * t);
-        Y4 += 0.00000008176 * Math.cos(3.12499674078 + 429.7795846137 * t);
-        Y4 += 0.00000009418 * Math.cos(1.37154453834 + 316.3918696566 * t);
-        Y4 += 0.00000007773 * Math.cos(3.77140700642 + 625.6701923124 * t);
-        Y4 += 0.00000007925 * Math.cos(0.99159987248 + 1066.49547719 * t);
-        Y4 += 0.00000006842 * Math.cos(0.63976654749 + 203.0041546995 * t);
-        Y4 += 0.00000006721 * Math.cos(4.24955582048 + 223.5940361765 * t);
-        Y4 += 0.00000005021 * Math.cos(4.08379815445 + 216.4804891757 * t);
-        Y4 += 0.00000003706 * Math.cos(5.62309481052 + 423.4167971383 * t);
-        Y4 += 0.00000004566 * Math.cos(0.76257003680 + 210.1177017003 * t);
-        Y4 += 0.00000003749 * Math.cos(5.12362808483 + 405.2575498736 * t);
-        Y4 += 0.00000003315 * Math.cos(5.84182735718 + 522.5774180938 * t);
-        Y4 += 0.00000003008 * Math.cos(1.02881073033 + 515.463871093 * t);
-        Y4 += 0.00000002914 * Math.cos(3.21499308213 + 422.6660376129 * t);
-        Y4 += 0.00000002416 * Math.cos(3.88958492559 + 295.0512286542 * t);
-        Y4 += 0.00000002718 * Math.cos(3.78846437142 + 131.5469622218 * t);
-        Y4 += 0.00000002556 * Math.cos(3.08391464161 + 337.732510659 * t);
-        Y4 += 0.00000001928 * Math.cos(2.94939792463 + 618.5566453116 * t);
-        Y4 += 0.00000001704 * Math.cos(1.10834750380 + 831.8557407496 * t);
-        Y4 += 0.00000001692 * Math.cos(0.59694424259 + 728.762966531 * t);
-        Y4 += 0.00000002295 * Math.cos(3.06773250770 + 742.9900605326 * t);
-        Y4 += 0.00000001711 * Math.cos(5.34031096354 + 1052.2683831884 * t);
-        Y4 += 0.00000001782 * Math.cos(0.37884320289 + 184.8449074348 * t);
-        Y4 += 0.00000001782 * Math.cos(4.51078296370 + 241.7532834412 * t);
-        Y4 += 0.00000001603 * Math.cos(2.55469774635 + 1251.3403846248 * t);
-        Y4 += 0.00000001607 * Math.cos(6.10865142042 + 611.4430983108 * t);
-        Y4 += 0.00000001971 * Math.cos(4.10286738399 + 1361.5467058442 * t);
-        Y4 += 0.00000001392 * Math.cos(1.49756293227 + 508.3503240922 * t);
-        Y4 += 0.00000001360 * Math.cos(1.76766357198 + 956.2891559706 * t);
-        Y4 += 0.00000001505 * Math.cos(3.96794786519 + 1677.9385755008 * t);
-        Y4 += 0.00000001276 * Math.cos(3.70365044251 + 209.3669421749 * t);
-        Y4 += 0.00000001310 * Math.cos(1.09617628890 + 217.2312487011 * t);
-        Y4 += 0.00000001646 * Math.cos(5.68811055040 + 195.1398481733 * t);
-        Y4 += 0.00000001646 * Math.cos(5.48470092337 + 231.4583427027 * t);
-        Y4 += 0.00000001479 * Math.cos(0.48785149790 + 529.6909650946 * t);
-        Y4 += 0.00000001159 * Math.cos(1.35912570285 + 81.7521332162 * t);
-        Y4 += 0.00000001227 * Math.cos(2.54162930000 + 934.9485149682 * t);
-        Y4 += 0.00000001038 * Math.cos(2.36830129087 + 1567.7322542814 * t);
-        Y4 += 0.00000001079 * Math.cos(4.46930599086 + 1368.660252845 * t);
-        Y4 += 0.00000001214 * Math.cos(1.13732432251 + 1464.6394800628 * t);
-        Y4 += 0.00000001112 * Math.cos(3.73702856394 + 1994.3304451574 * t);
-        Y4 += 0.00000001274 * Math.cos(4.63347476589 + 735.8765135318 * t);
-        Y4 += 0.00000000993 * Math.cos(2.67257314348 + 942.062061969 * t);
-        Y4 += 0.00000001037 * Math.cos(1.31415314586 + 1148.2476104062 * t);
-        Y4 += 0.00000000888 * Math.cos(4.99973811384 + 1788.1448967202 * t);
-        Y4 += 0.00000000843 * Math.cos(0.88917875831 + 750.1036075334 * t);
-        Y4 += 0.00000000818 * Math.cos(0.60404781383 + 1045.1548361876 * t);
-        Y4 += 0.00000000859 * Math.cos(5.85730307132 + 416.3032501375 * t);
-        Y4 += 0.00000000862 * Math.cos(3.18022940336 + 436.8931316145 * t);
-        Y4 += 0.00000000804 * Math.cos(5.27286205751 + 1155.361157407 * t);
-        Y4 += 0.00000000995 * Math.cos(3.12700036302 + 1891.2376709388 * t);
-        Y4 += 0.00000000803 * Math.cos(2.03547611416 + 1375.7737998458 * t);
-        Y4 += 0.00000000760 * Math.cos(4.30005555725 + 1258.4539316256 * t);
-        Y4 += 0.00000000738 * Math.cos(4.25590020164 + 10.2949407385 * t);
-        Y4 += 0.00000000728 * Math.cos(3.57279637901 + 1802.3719907218 * t);
-        Y4 += 0.00000000684 * Math.cos(3.52622623805 + 661.2379273164 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 32 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000589080 * Math.cos(4.84910386986 + 206.1855484372 * t);
-        Y5 += 0.00000590114 * Math.cos(3.08953743297 + 220.4126424388 * t);
-        Y5 += 0.00000226448 * Math.cos(3.03832080293 + 227.5261894396 * t);
-        Y5 += 0.00000131513 * Math.cos(2.04967560816 + 433.7117378768 * t);
-        Y5 += 0.00000094102 * Math.cos(5.02382407527 + 199.0720014364 * t);
-        Y5 += 0.00000039693 * Math.cos(4.32346998407 + 14.2270940016 * t);
-        Y5 += 0.00000034027 * Math.cos(2.08525646945 + 440.8252848776 * t);
-        Y5 += 0.00000022889 * Math.cos(1.09229217690 + 647.0108333148 * t);
-        Y5 += 0.00000013218 * Math.cos(5.16299629187 + 419.4846438752 * t);
-        Y5 += 0.00000011166 * Math.cos(0.74664450300 + 639.897286314 * t);
-        Y5 += 0.00000010308 * Math.cos(2.94611135407 + 234.6397364404 * t);
-        Y5 += 0.00000008700 * Math.cos(1.93382574540 + 191.9584544356 * t);
-        Y5 += 0.00000007283 * Math.cos(0.85862173949 + 426.598190876 * t);
-        Y5 += 0.00000004868 * Math.cos(6.24105305063 + 88.865680217 * t);
-        Y5 += 0.00000004778 * Math.cos(3.47027519446 + 7.1135470008 * t);
-        Y5 += 0.00000003843 * Math.cos(0.76786462039 + 405.2575498736 * t);
-        Y5 += 0.00000004110 * Math.cos(2.21053405134 + 213.299095438 * t);
-        Y5 += 0.00000004374 * Math.cos(1.19431918801 + 654.1243803156 * t);
-        Y5 += 0.00000003330 * Math.cos(6.12745878547 + 853.196381752 * t);
-        Y5 += 0.00000003260 * Math.cos(2.32884812687 + 124.433415221 * t);
-        Y5 += 0.00000002704 * Math.cos(1.44355016718 + 515.463871093 * t);
-        Y5 += 0.00000002565 * Math.cos(1.20250305213 + 110.2063212194 * t);
-        Y5 += 0.00000002678 * Math.cos(0.17889143297 + 860.3099287528 * t);
-        Y5 += 0.00000002138 * Math.cos(2.01599255393 + 447.9388318784 * t);
-        Y5 += 0.00000001636 * Math.cos(0.39362704173 + 302.164775655 * t);
-        Y5 += 0.00000001889 * Math.cos(0.49025110230 + 95.9792272178 * t);
-        Y5 += 0.00000001454 * Math.cos(0.14310762168 + 309.2783226558 * t);
-        Y5 += 0.00000000972 * Math.cos(4.13503049863 + 117.3198682202 * t);
-        Y5 += 0.00000000984 * Math.cos(2.38499591413 + 203.0041546995 * t);
-        Y5 += 0.00000000984 * Math.cos(2.50463025246 + 223.5940361765 * t);
-        Y5 += 0.00000000780 * Math.cos(0.55796214439 + 330.6189636582 * t);
-        Y5 += 0.00000000786 * Math.cos(1.61541856004 + 522.5774180938 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 420 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.41356950940 * Math.cos(3.60234142982 + 213.299095438 * t);
-        Z0 += 0.01148283576 * Math.cos(2.85128367469 + 426.598190876 * t);
-        Z0 += 0.01214249867;
-        Z0 += 0.00329280791 * Math.cos(0.57121407104 + 206.1855484372 * t);
-        Z0 += 0.00286934048 * Math.cos(3.48073526693 + 220.4126424388 * t);
-        Z0 += 0.00099076584 * Math.cos(4.73369511264 + 7.1135470008 * t);
-        Z0 += 0.00057361820 * Math.cos(4.92611225093 + 110.2063212194 * t);
-        Z0 += 0.00047738127 * Math.cos(2.10039779728 + 639.897286314 * t);
-        Z0 += 0.00043458803 * Math.cos(5.84904978051 + 419.4846438752 * t);
-        Z0 += 0.00034565673 * Math.cos(5.42614229590 + 316.3918696566 * t);
-        Z0 += 0.00016185391 * Math.cos(2.72987173675 + 433.7117378768 * t);
-        Z0 += 0.00009001270 * Math.cos(1.38140102737 + 103.0927742186 * t);
-        Z0 += 0.00011433574 * Math.cos(3.71662021072 + 529.6909650946 * t);
-        Z0 += 0.00005398708 * Math.cos(5.13204892363 + 202.2533951741 * t);
-        Z0 += 0.00003902467 * Math.cos(3.71499738796 + 323.5054166574 * t);
-        Z0 += 0.00003709212 * Math.cos(5.05549348785 + 632.7837393132 * t);
-        Z0 += 0.00003614100 * Math.cos(3.35210451276 + 227.5261894396 * t);
-        Z0 += 0.00003379953 * Math.cos(2.13868919206 + 11.0457002639 * t);
-        Z0 += 0.00003089874 * Math.cos(3.62572857085 + 209.3669421749 * t);
-        Z0 += 0.00002683064 * Math.cos(4.87689555581 + 224.3447957019 * t);
-        Z0 += 0.00002963493 * Math.cos(0.46490184985 + 217.2312487011 * t);
-        Z0 += 0.00002343367 * Math.cos(1.34558278340 + 853.196381752 * t);
-        Z0 += 0.00002423663 * Math.cos(2.92907094760 + 63.7358983034 * t);
-        Z0 += 0.00001701916 * Math.cos(1.89892525654 + 735.8765135318 * t);
-        Z0 += 0.00001941205 * Math.cos(4.59421314662 + 14.2270940016 * t);
-        Z0 += 0.00001990145 * Math.cos(0.73166053611 + 199.0720014364 * t);
-        Z0 += 0.00001460265 * Math.cos(3.12851339724 + 522.5774180938 * t);
-        Z0 += 0.00001148341 * Math.cos(4.41139213915 + 117.3198682202 * t);
-        Z0 += 0.00001092809 * Math.cos(3.10679381209 + 216.4804891757 * t);
-        Z0 += 0.00001015179 * Math.cos(1.97897195994 + 647.0108333148 * t);
-        Z0 += 0.00001098254 * Math.cos(0.96097709156 + 210.1177017003 * t);
-        Z0 += 0.00000991030 * Math.cos(2.99610026682 + 846.0828347512 * t);
-        Z0 += 0.00001028743 * Math.cos(2.11933059243 + 415.5524906121 * t);
-        Z0 += 0.00000907817 * Math.cos(4.68576278610 + 309.2783226558 * t);
-        Z0 += 0.00000818092 * Math.cos(2.91497656196 + 149.5631971346 * t);
-        Z0 += 0.00000733443 * Math.cos(2.10018715614 + 74.7815985673 * t);
-        Z0 += 0.00000631275 * Math.cos(1.30557255814 + 277.0349937414 * t);
-        Z0 += 0.00000574266 * Math.cos(0.63353925382 + 490.3340891794 * t);
-        Z0 += 0.00000471645 * Math.cos(1.62329782277 + 1052.2683831884 * t);
-        Z0 += 0.00000416292 * Math.cos(5.88171380023 + 95.9792272178 * t);
-        Z0 += 0.00000412467 * Math.cos(2.56322277221 + 1162.4747044078 * t);
-        Z0 += 0.00000381934 * Math.cos(2.83850532211 + 838.9692877504 * t);
-        Z0 += 0.00000370902 * Math.cos(2.22356953874 + 351.8165923087 * t);
-        Z0 += 0.00000337338 * Math.cos(4.12487690436 + 3.9321532631 * t);
-        Z0 += 0.00000263173 * Math.cos(2.60594324261 + 440.8252848776 * t);
-        Z0 += 0.00000245414 * Math.cos(3.87716027424 + 1059.3819301892 * t);
-        Z0 += 0.00000231186 * Math.cos(2.79137518143 + 127.4717966068 * t);
-        Z0 += 0.00000232835 * Math.cos(1.69429632635 + 38.1330356378 * t);
-        Z0 += 0.00000226218 * Math.cos(0.98981012262 + 210.8514148832 * t);
-        Z0 += 0.00000252287 * Math.cos(3.04205345262 + 137.0330241624 * t);
-        Z0 += 0.00000213656 * Math.cos(3.00046819587 + 536.8045120954 * t);
-        Z0 += 0.00000223924 * Math.cos(3.07498346391 + 215.7467759928 * t);
-        Z0 += 0.00000189917 * Math.cos(5.75255233102 + 742.9900605326 * t);
-        Z0 += 0.00000162873 * Math.cos(3.89762690585 + 214.2623032845 * t);
-        Z0 += 0.00000164510 * Math.cos(2.45697452905 + 422.6660376129 * t);
-        Z0 += 0.00000158304 * Math.cos(2.31306407231 + 1478.8665740644 * t);
-        Z0 += 0.00000156454 * Math.cos(1.35680198123 + 1368.660252845 * t);
-        Z0 += 0.00000202699 * Math.cos(3.85581899880 + 949.1756089698 * t);
-        Z0 += 0.00000150079 * Math.cos(4.14045329244 + 437.6438911399 * t);
-        Z0 += 0.00000142705 * Math.cos(2.58383947868 + 1155.361157407 * t);
-        Z0 += 0.00000163551 * Math.cos(0.16578976592 + 212.3358875915 * t);
-        Z0 += 0.00000135335 * Math.cos(0.48883402314 + 213.3472795478 * t);
-        Z0 += 0.00000129140 * Math.cos(2.17035714121 + 76.2660712756 * t);
-        Z0 += 0.00000128206 * Math.cos(0.59415255592 + 1066.49547719 * t);
-        Z0 += 0.00000140534 * Math.cos(3.97289861748 + 625.6701923124 * t);
-        Z0 += 0.00000121564 * Math.cos(4.51381049808 + 3.1813937377 * t);
-        Z0 += 0.00000119190 * Math.cos(1.61391416177 + 628.8515860501 * t);
-        Z0 += 0.00000115147 * Math.cos(3.43459040245 + 330.6189636582 * t);
-        Z0 += 0.00000135375 * Math.cos(3.57424025701 + 213.2509113282 * t);
-        Z0 += 0.00000103727 * Math.cos(6.17639441368 + 200.7689224658 * t);
-        Z0 += 0.00000107498 * Math.cos(3.52498564069 + 138.5174968707 * t);
-        Z0 += 0.00000107560 * Math.cos(3.99837836470 + 85.8272988312 * t);
-        Z0 += 0.00000113808 * Math.cos(0.43922136441 + 222.8603229936 * t);
-        Z0 += 0.00000094920 * Math.cos(2.26222536028 + 388.4651552382 * t);
-        Z0 += 0.00000110037 * Math.cos(3.51152757685 + 1265.5674786264 * t);
-        Z0 += 0.00000101425 * Math.cos(0.14126238472 + 430.5303441391 * t);
-        Z0 += 0.00000101928 * Math.cos(0.21047731069 + 412.3710968744 * t);
-        Z0 += 0.00000104973 * Math.cos(4.19518394917 + 9.5612275556 * t);
-        Z0 += 0.00000083620 * Math.cos(4.82013591775 + 1.4844727083 * t);
-        Z0 += 0.00000071104 * Math.cos(4.92741306047 + 212.7778305762 * t);
-        Z0 += 0.00000070089 * Math.cos(1.05108025259 + 12.5301729722 * t);
-        Z0 += 0.00000066662 * Math.cos(1.22617152895 + 860.3099287528 * t);
-        Z0 += 0.00000077048 * Math.cos(0.80511279723 + 52.6901980395 * t);
-        Z0 += 0.00000090986 * Math.cos(6.28198480720 + 423.4167971383 * t);
-        Z0 += 0.00000062746 * Math.cos(2.06105893244 + 1795.258443721 * t);
-        Z0 += 0.00000063467 * Math.cos(2.36959372262 + 429.7795846137 * t);
-        Z0 += 0.00000058999 * Math.cos(2.31882650737 + 1471.7530270636 * t);
-        Z0 += 0.00000076181 * Math.cos(2.67435759741 + 191.2076949102 * t);
-        Z0 += 0.00000063389 * Math.cos(1.81556177589 + 350.3321196004 * t);
-        Z0 += 0.00000056601 * Math.cos(1.11303957705 + 1685.0521225016 * t);
-        Z0 += 0.00000057837 * Math.cos(3.29043420072 + 515.463871093 * t);
-        Z0 += 0.00000070959 * Math.cos(5.41979944279 + 213.8203602998 * t);
-        Z0 += 0.00000070150 * Math.cos(3.82574373735 + 942.062061969 * t);
-        Z0 += 0.00000051149 * Math.cos(3.86030131690 + 173.9422195228 * t);
-        Z0 += 0.00000051666 * Math.cos(3.49111344070 + 203.7378678824 * t);
-        Z0 += 0.00000050128 * Math.cos(1.98273693937 + 195.1398481733 * t);
-        Z0 += 0.00000048091 * Math.cos(3.20971334548 + 234.6397364404 * t);
-        Z0 += 0.00000049761 * Math.cos(6.18808156638 + 703.6331846174 * t);
-        Z0 += 0.00000046488 * Math.cos(3.80768518798 + 225.8292684102 * t);
-        Z0 += 0.00000054298 * Math.cos(3.18076013146 + 1581.959348283 * t);
-        Z0 += 0.00000047483 * Math.cos(1.53655093485 + 265.9892934775 * t);
-        Z0 += 0.00000039354 * Math.cos(2.10537295968 + 728.762966531 * t);
-        Z0 += 0.00000039602 * Math.cos(2.27507746067 + 288.0806940053 * t);
-        Z0 += 0.00000041716 * Math.cos(1.05111221485 + 563.6312150384 * t);
-        Z0 += 0.00000037614 * Math.cos(6.14179074602 + 217.491881132 * t);
-        Z0 += 0.00000042785 * Math.cos(0.11273484212 + 252.6559713532 * t);
-        Z0 += 0.00000037718 * Math.cos(5.96333653993 + 210.3783341312 * t);
-        Z0 += 0.00000036792 * Math.cos(1.35292393469 + 565.1156877467 * t);
-        Z0 += 0.00000037862 * Math.cos(4.00773869969 + 62.2514255951 * t);
-        Z0 += 0.00000036057 * Math.cos(3.30899953753 + 212.5483359126 * t);
-        Z0 += 0.00000035460 * Math.cos(5.01105830246 + 65.2203710117 * t);
-        Z0 += 0.00000034852 * Math.cos(4.75445504646 + 207.8824694666 * t);
-        Z0 += 0.00000040506 * Math.cos(2.20073759144 + 362.8622925726 * t);
-        Z0 += 0.00000032560 * Math.cos(6.14806301843 + 417.0369633204 * t);
-        Z0 += 0.00000037967 * Math.cos(4.57075294928 + 302.164775655 * t);
-        Z0 += 0.00000032818 * Math.cos(5.79538785685 + 99.1606209555 * t);
-        Z0 += 0.00000030744 * Math.cos(3.64317302294 + 207.6700211455 * t);
-        Z0 += 0.00000032548 * Math.cos(2.95740474962 + 70.8494453042 * t);
-        Z0 += 0.00000035830 * Math.cos(0.75230512173 + 214.0498549634 * t);
-        Z0 += 0.00000034253 * Math.cos(2.96835157474 + 223.5940361765 * t);
-        Z0 += 0.00000032939 * Math.cos(4.45144712576 + 21.3406410024 * t);
-        Z0 += 0.00000037689 * Math.cos(4.37977418287 + 216.2198567448 * t);
-        Z0 += 0.00000032421 * Math.cos(5.78559756829 + 160.6088973985 * t);
-        Z0 += 0.00000028902 * Math.cos(5.81529149124 + 88.865680217 * t);
-        Z0 += 0.00000033335 * Math.cos(5.62401622695 + 218.7157214094 * t);
-        Z0 += 0.00000038185 * Math.cos(4.19997816879 + 209.106309744 * t);
-        Z0 += 0.00000027693 * Math.cos(5.55618950213 + 18.1592472647 * t);
-        Z0 += 0.00000028922 * Math.cos(5.58858980738 + 425.1137181677 * t);
-        Z0 += 0.00000032330 * Math.cos(4.22794944092 + 22.0914005278 * t);
-        Z0 += 0.00000029913 * Math.cos(3.31182307103 + 124.433415221 * t);
-        Z0 += 0.00000029455 * Math.cos(5.83042047243 + 956.2891559706 * t);
-        Z0 += 0.00000026648 * Math.cos(0.86666603224 + 217.964961884 * t);
-        Z0 += 0.00000025659 * Math.cos(5.10869894674 + 479.2883889155 * t);
-        Z0 += 0.00000025652 * Math.cos(4.80215156054 + 231.4583427027 * t);
-        Z0 += 0.00000026011 * Math.cos(2.05589181933 + 1788.1448967202 * t);
-        Z0 += 0.00000025663 * Math.cos(1.81564756635 + 2111.6503133776 * t);
-        Z0 += 0.00000022977 * Math.cos(5.44037839738 + 142.4496501338 * t);
-        Z0 += 0.00000031283 * Math.cos(3.54881062563 + 1258.4539316256 * t);
-        Z0 += 0.00000030192 * Math.cos(0.42929684303 + 218.9281697305 * t);
-        Z0 += 0.00000026495 * Math.cos(2.86288115466 + 1898.3512179396 * t);
-        Z0 += 0.00000029523 * Math.cos(0.37961341545 + 554.0699874828 * t);
-        Z0 += 0.00000022228 * Math.cos(5.48142509504 + 408.4389436113 * t);
-        Z0 += 0.00000021237 * Math.cos(0.87139429027 + 2001.4439921582 * t);
-        Z0 += 0.00000020174 * Math.cos(1.85380647370 + 654.1243803156 * t);
-        Z0 += 0.00000020521 * Math.cos(6.16117414568 + 56.6223513026 * t);
-        Z0 += 0.00000023744 * Math.cos(3.20046265011 + 208.633228992 * t);
-        Z0 += 0.00000021685 * Math.cos(3.17871482760 + 414.0680179038 * t);
-        Z0 += 0.00000019856 * Math.cos(3.13857572740 + 175.1660598002 * t);
-        Z0 += 0.00000017347 * Math.cos(5.96946168051 + 213.1872208534 * t);
-        Z0 += 0.00000017925 * Math.cos(1.14556340660 + 203.0041546995 * t);
-        Z0 += 0.00000018247 * Math.cos(3.00127995342 + 831.8557407496 * t);
-        Z0 += 0.00000017378 * Math.cos(0.74127655202 + 177.8743727859 * t);
-        Z0 += 0.00000016401 * Math.cos(1.36402971878 + 211.8146227297 * t);
-        Z0 += 0.00000016228 * Math.cos(3.17582194781 + 98.8999885246 * t);
-        Z0 += 0.00000016107 * Math.cos(0.54971362869 + 251.4321310758 * t);
-        Z0 += 0.00000015546 * Math.cos(2.29108586908 + 750.1036075334 * t);
-        Z0 += 0.00000014801 * Math.cos(0.20111341190 + 148.0787244263 * t);
-        Z0 += 0.00000015320 * Math.cos(3.80296373340 + 483.2205421786 * t);
-        Z0 += 0.00000014467 * Math.cos(1.32549449124 + 114.1384744825 * t);
-        Z0 += 0.00000014146 * Math.cos(4.85276668809 + 327.4375699205 * t);
-        Z0 += 0.00000015436 * Math.cos(1.48161033604 + 198.321241911 * t);
-        Z0 += 0.00000014576 * Math.cos(3.75966213667 + 213.5115437591 * t);
-        Z0 += 0.00000014820 * Math.cos(3.34957428396 + 248.7238180901 * t);
-        Z0 += 0.00000013743 * Math.cos(4.77276011938 + 106.2741679563 * t);
-        Z0 += 0.00000017347 * Math.cos(4.37930417897 + 213.4109700226 * t);
-        Z0 += 0.00000014576 * Math.cos(0.30591841563 + 213.0866471169 * t);
-        Z0 += 0.00000013755 * Math.cos(2.59733474149 + 228.276948965 * t);
-        Z0 += 0.00000012945 * Math.cos(1.84552645547 + 1045.1548361876 * t);
-        Z0 += 0.00000012834 * Math.cos(4.24597463890 + 10.2949407385 * t);
-        Z0 += 0.00000012885 * Math.cos(4.86095700310 + 39.3568759152 * t);
-        Z0 += 0.00000016969 * Math.cos(1.27721722241 + 214.7835681463 * t);
-        Z0 += 0.00000012706 * Math.cos(0.31024660308 + 424.1505103212 * t);
-        Z0 += 0.00000012558 * Math.cos(0.03128357867 + 1272.6810256272 * t);
-        Z0 += 0.00000014310 * Math.cos(2.34661407283 + 1375.7737998458 * t);
-        Z0 += 0.00000011808 * Math.cos(1.79617614059 + 2104.5367663768 * t);
-        Z0 += 0.00000013258 * Math.cos(2.56724178887 + 2214.7430875962 * t);
-        Z0 += 0.00000011158 * Math.cos(0.45949551763 + 497.4476361802 * t);
-        Z0 += 0.00000014798 * Math.cos(1.03056978581 + 2.4476805548 * t);
-        Z0 += 0.00000014861 * Math.cos(3.26343762010 + 1574.8458012822 * t);
-        Z0 += 0.00000011978 * Math.cos(6.22486801109 + 121.2520214833 * t);
-        Z0 += 0.00000010959 * Math.cos(1.31570222417 + 235.3904959658 * t);
-        Z0 += 0.00000011901 * Math.cos(1.58846496072 + 635.9651330509 * t);
-        Z0 += 0.00000011080 * Math.cos(5.37041305935 + 1169.5882514086 * t);
-        Z0 += 0.00000010475 * Math.cos(2.19368288733 + 221.3758502853 * t);
-        Z0 += 0.00000012129 * Math.cos(4.63783219973 + 269.9214467406 * t);
-        Z0 += 0.00000010959 * Math.cos(4.40512358221 + 213.5597278689 * t);
-        Z0 += 0.00000010673 * Math.cos(1.60141035946 + 2428.0421830342 * t);
-        Z0 += 0.00000013041 * Math.cos(1.87126265057 + 151.0476698429 * t);
-        Z0 += 0.00000011521 * Math.cos(2.11579255167 + 205.2223405907 * t);
-        Z0 += 0.00000010228 * Math.cos(2.41342516828 + 275.5505210331 * t);
-        Z0 += 0.00000010229 * Math.cos(0.96548776504 + 842.1506814881 * t);
-        Z0 += 0.00000010959 * Math.cos(5.94363969204 + 213.0384630071 * t);
-        Z0 += 0.00000009406 * Math.cos(3.39740548756 + 650.9429865779 * t);
-        Z0 += 0.00000010284 * Math.cos(0.01930234298 + 219.4494345923 * t);
-        Z0 += 0.00000009424 * Math.cos(1.68112701238 + 488.8496164711 * t);
-        Z0 += 0.00000008939 * Math.cos(5.28697277625 + 340.7708920448 * t);
-        Z0 += 0.00000009017 * Math.cos(2.70864683669 + 1692.1656695024 * t);
-        Z0 += 0.00000009979 * Math.cos(3.97256303244 + 278.5194664497 * t);
-        Z0 += 0.00000008356 * Math.cos(0.65143790392 + 2317.8358618148 * t);
-        Z0 += 0.00000009107 * Math.cos(0.33774330802 + 10213.285546211 * t);
-        Z0 += 0.00000008169 * Math.cos(3.23957036879 + 427.5613987225 * t);
-        Z0 += 0.00000009044 * Math.cos(0.23054654773 + 312.1990839626 * t);
-        Z0 += 0.00000007927 * Math.cos(3.97539997718 + 210.5907824523 * t);
-        Z0 += 0.00000010063 * Math.cos(4.21498692120 + 618.5566453116 * t);
-        Z0 += 0.00000009335 * Math.cos(5.70779396792 + 425.6349830295 * t);
-        Z0 += 0.00000008385 * Math.cos(0.64196694648 + 188.9200730498 * t);
-        Z0 += 0.00000008670 * Math.cos(2.75601079050 + 491.8185618877 * t);
-        Z0 += 0.00000008100 * Math.cos(4.06039030284 + 207.1487562837 * t);
-        Z0 += 0.00000009452 * Math.cos(2.59277908129 + 429.0458714308 * t);
-        Z0 += 0.00000007738 * Math.cos(1.55361395079 + 601.7642506762 * t);
-        Z0 += 0.00000007577 * Math.cos(6.02114380426 + 426.6463749858 * t);
-        Z0 += 0.00000009275 * Math.cos(5.16642875471 + 8.0767548473 * t);
-        Z0 += 0.00000007638 * Math.cos(2.70476229552 + 543.9180590962 * t);
-        Z0 += 0.00000007663 * Math.cos(2.73399784358 + 1148.2476104062 * t);
-        Z0 += 0.00000007158 * Math.cos(5.84039229615 + 84.3428261229 * t);
-        Z0 += 0.00000008033 * Math.cos(4.20065885029 + 767.3690829208 * t);
-        Z0 += 0.00000006822 * Math.cos(6.12047591103 + 1279.794572628 * t);
-        Z0 += 0.00000008887 * Math.cos(4.87842237223 + 1589.0728952838 * t);
-        Z0 += 0.00000006961 * Math.cos(3.34826318442 + 237.6781178262 * t);
-        Z0 += 0.00000006580 * Math.cos(5.81874339759 + 284.1485407422 * t);
-        Z0 += 0.00000006629 * Math.cos(1.53732206945 + 289.5651667136 * t);
-        Z0 += 0.00000006283 * Math.cos(3.84796221759 + 125.9873238985 * t);
-        Z0 += 0.00000007796 * Math.cos(0.08813581424 + 216.0074084237 * t);
-        Z0 += 0.00000008282 * Math.cos(1.90022750359 + 134.5853436076 * t);
-        Z0 += 0.00000006576 * Math.cos(0.35050721605 + 220.4608265486 * t);
-        Z0 += 0.00000006587 * Math.cos(0.58291546593 + 213.4591541324 * t);
-        Z0 += 0.00000006378 * Math.cos(6.14309601319 + 73.297125859 * t);
-        Z0 += 0.00000006626 * Math.cos(3.37506241952 + 312.4597163935 * t);
-        Z0 += 0.00000006587 * Math.cos(3.48062808501 + 213.1390367436 * t);
-        Z0 += 0.00000007576 * Math.cos(2.82334902636 + 426.5500067662 * t);
-        Z0 += 0.00000005988 * Math.cos(5.47551169354 + 35.4247226521 * t);
-        Z0 += 0.00000005723 * Math.cos(5.22938546212 + 212.0270710508 * t);
-        Z0 += 0.00000006565 * Math.cos(5.18423527980 + 67.6680515665 * t);
-        Z0 += 0.00000005704 * Math.cos(5.31164037710 + 1485.9801210652 * t);
-        Z0 += 0.00000006842 * Math.cos(6.15429926594 + 179.3588454942 * t);
-        Z0 += 0.00000007349 * Math.cos(0.73079523905 + 355.7487455718 * t);
-        Z0 += 0.00000005590 * Math.cos(4.19082216094 + 247.2393453818 * t);
-        Z0 += 0.00000006488 * Math.cos(2.29038019982 + 2531.1349572528 * t);
-        Z0 += 0.00000007413 * Math.cos(2.98595847215 + 1891.2376709388 * t);
-        Z0 += 0.00000005491 * Math.cos(2.70527999156 + 2008.557539159 * t);
-        Z0 += 0.00000005820 * Math.cos(2.98199777797 + 5.4166259714 * t);
-        Z0 += 0.00000005622 * Math.cos(1.45901882320 + 501.3797894433 * t);
-        Z0 += 0.00000005473 * Math.cos(0.81641753389 + 181.0557665236 * t);
-        Z0 += 0.00000005454 * Math.cos(6.12211624341 + 643.8294395771 * t);
-        Z0 += 0.00000005407 * Math.cos(1.53066536154 + 2420.9286360334 * t);
-        Z0 += 0.00000005442 * Math.cos(0.02368001914 + 404.5067903482 * t);
-        Z0 += 0.00000005436 * Math.cos(4.67977840196 + 621.7380390493 * t);
-        Z0 += 0.00000006267 * Math.cos(5.43877709236 + 636.7158925763 * t);
-        Z0 += 0.00000005068 * Math.cos(4.33978904750 + 113.3877149571 * t);
-        Z0 += 0.00000004865 * Math.cos(5.10809843245 + 69.1525242748 * t);
-        Z0 += 0.00000005070 * Math.cos(3.27536823314 + 144.1465711632 * t);
-        Z0 += 0.00000004738 * Math.cos(0.53669462342 + 1073.6090241908 * t);
-        Z0 += 0.00000005183 * Math.cos(2.18841260581 + 107.0249274817 * t);
-        Z0 += 0.00000005310 * Math.cos(0.66732715963 + 116.4260963429 * t);
-        Z0 += 0.00000005141 * Math.cos(2.42998599018 + 692.5874843535 * t);
-        Z0 += 0.00000006231 * Math.cos(5.93759865879 + 436.1594184316 * t);
-        Z0 += 0.00000006367 * Math.cos(3.45785496152 + 220.364458329 * t);
-        Z0 += 0.00000004541 * Math.cos(0.61777794179 + 206.233732547 * t);
-        Z0 += 0.00000004528 * Math.cos(1.65756596310 + 1361.5467058442 * t);
-        Z0 += 0.00000005172 * Math.cos(4.96799695932 + 342.2553647531 * t);
-        Z0 += 0.00000005805 * Math.cos(2.10740836405 + 4.665866446 * t);
-        Z0 += 0.00000004639 * Math.cos(1.63821364676 + 5.6290742925 * t);
-        Z0 += 0.00000004731 * Math.cos(1.44641985940 + 2744.4340526908 * t);
-        Z0 += 0.00000004756 * Math.cos(3.73287086188 + 206.1373643274 * t);
-        Z0 += 0.00000004322 * Math.cos(4.15153138812 + 426.0769260142 * t);
-        Z0 += 0.00000004167 * Math.cos(1.65241802351 + 191.9584544356 * t);
-        Z0 += 0.00000004164 * Math.cos(2.47912208303 + 447.9388318784 * t);
-        Z0 += 0.00000005676 * Math.cos(5.11706007934 + 214.5711198252 * t);
-        Z0 += 0.00000003966 * Math.cos(0.05086647098 + 206.706813299 * t);
-        Z0 += 0.00000004603 * Math.cos(5.52562693778 + 78.7137518304 * t);
-        Z0 += 0.00000003802 * Math.cos(0.43628874694 + 617.8058857862 * t);
-        Z0 += 0.00000004800 * Math.cos(5.54041183899 + 344.7030453079 * t);
-        Z0 += 0.00000004743 * Math.cos(0.53760335914 + 128.9562693151 * t);
-        Z0 += 0.00000004130 * Math.cos(1.61538042826 + 643.0786800517 * t);
-        Z0 += 0.00000004686 * Math.cos(3.97383030786 + 934.9485149682 * t);
-        Z0 += 0.00000004043 * Math.cos(2.18819710124 + 358.9301393095 * t);
-        Z0 += 0.00000003906 * Math.cos(5.19970623343 + 630.3360587584 * t);
-        Z0 += 0.00000003883 * Math.cos(5.39147665291 + 320.3240229197 * t);
-        Z0 += 0.00000004913 * Math.cos(1.03288629446 + 32.2433289144 * t);
-        Z0 += 0.00000003689 * Math.cos(5.45822055399 + 916.9322800554 * t);
-        Z0 += 0.00000004228 * Math.cos(4.28360558940 + 4.192785694 * t);
-        Z0 += 0.00000004020 * Math.cos(4.88073386744 + 54.1746707478 * t);
-        Z0 += 0.00000004185 * Math.cos(3.32405342181 + 245.5424243524 * t);
-        Z0 += 0.00000004583 * Math.cos(1.85097979187 + 114.3991069134 * t);
-        Z0 += 0.00000004596 * Math.cos(4.18504944347 + 219.891377577 * t);
-        Z0 += 0.00000003552 * Math.cos(5.98005739127 + 20.6069278195 * t);
-        Z0 += 0.00000003975 * Math.cos(5.80157206371 + 14.977853527 * t);
-        Z0 += 0.00000003475 * Math.cos(2.47178960968 + 1464.6394800628 * t);
-        Z0 += 0.00000004395 * Math.cos(0.85418906454 + 525.4981794006 * t);
-        Z0 += 0.00000003187 * Math.cos(2.61148353061 + 2324.9494088156 * t);
-        Z0 += 0.00000003966 * Math.cos(4.66662911986 + 427.1194557378 * t);
-        Z0 += 0.00000003124 * Math.cos(0.10655817305 + 14.0146456805 * t);
-        Z0 += 0.00000003104 * Math.cos(0.38849805992 + 2634.2277314714 * t);
-        Z0 += 0.00000003508 * Math.cos(2.85265213502 + 87.3117715395 * t);
-        Z0 += 0.00000002979 * Math.cos(3.04084830124 + 420.9691165835 * t);
-        Z0 += 0.00000003143 * Math.cos(1.71420147928 + 0.9632078465 * t);
-        Z0 += 0.00000003169 * Math.cos(1.34499488466 + 159.1244246902 * t);
-        Z0 += 0.00000003871 * Math.cos(2.71348462732 + 2207.6295405954 * t);
-        Z0 += 0.00000002814 * Math.cos(0.52649713800 + 778.4147831847 * t);
-        Z0 += 0.00000002890 * Math.cos(1.29415320006 + 2737.32050569 * t);
-        Z0 += 0.00000002831 * Math.cos(4.45595764630 + 518.6452648307 * t);
-        Z0 += 0.00000002757 * Math.cos(2.05371431350 + 214.5229357154 * t);
-        Z0 += 0.00000002757 * Math.cos(2.83591185309 + 212.0752551606 * t);
-        Z0 += 0.00000003187 * Math.cos(2.00772012188 + 2847.5268269094 * t);
-        Z0 += 0.00000002712 * Math.cos(5.27492060596 + 305.3461693927 * t);
-        Z0 += 0.00000002771 * Math.cos(2.54360038772 + 319.5732633943 * t);
-        Z0 += 0.00000002630 * Math.cos(5.50124179878 + 423.6774295692 * t);
-        Z0 += 0.00000002626 * Math.cos(0.49212317679 + 153.4953503977 * t);
-        Z0 += 0.00000002828 * Math.cos(3.04457317761 + 211.6021744086 * t);
-        Z0 += 0.00000002650 * Math.cos(2.71849987794 + 145.6310438715 * t);
-        Z0 += 0.00000002589 * Math.cos(5.18248239650 + 1802.3719907218 * t);
-        Z0 += 0.00000002579 * Math.cos(1.68789924795 + 6.1503391543 * t);
-        Z0 += 0.00000003452 * Math.cos(0.69033243447 + 776.9303104764 * t);
-        Z0 += 0.00000002527 * Math.cos(3.47384786002 + 184.9879197867 * t);
-        Z0 += 0.00000002496 * Math.cos(5.96218386110 + 2.9207613068 * t);
-        Z0 += 0.00000003222 * Math.cos(3.60809233593 + 1251.3403846248 * t);
-        Z0 += 0.00000002684 * Math.cos(5.48972047825 + 391.1734682239 * t);
-        Z0 += 0.00000002370 * Math.cos(1.54660575926 + 51.2057253312 * t);
-        Z0 += 0.00000002310 * Math.cos(0.63846192912 + 416.3032501375 * t);
-        Z0 += 0.00000002444 * Math.cos(3.87972666346 + 182.279606801 * t);
-        Z0 += 0.00000002435 * Math.cos(2.71829697900 + 627.3671133418 * t);
-        Z0 += 0.00000002236 * Math.cos(1.31003501645 + 241.6102710893 * t);
-        Z0 += 0.00000002653 * Math.cos(5.70255270090 + 220.9339073006 * t);
-        Z0 += 0.00000002646 * Math.cos(3.30185009916 + 696.5196376166 * t);
-        Z0 += 0.00000002211 * Math.cos(4.72699183302 + 387.2413149608 * t);
-        Z0 += 0.00000002313 * Math.cos(2.81517281649 + 738.7972748386 * t);
-        Z0 += 0.00000002197 * Math.cos(2.63929129920 + 436.8931316145 * t);
-        Z0 += 0.00000002348 * Math.cos(1.83689902078 + 214.9960164674 * t);
-        Z0 += 0.00000002842 * Math.cos(2.88171478117 + 337.732510659 * t);
-        Z0 += 0.00000002195 * Math.cos(1.58125142363 + 1677.9385755008 * t);
-        Z0 += 0.00000002609 * Math.cos(1.41922918177 + 329.7251917809 * t);
-        Z0 += 0.00000002207 * Math.cos(5.67197607780 + 905.8865797915 * t);
-        Z0 += 0.00000002182 * Math.cos(3.15263816837 + 439.1283638482 * t);
-        Z0 += 0.00000002060 * Math.cos(5.78919528834 + 120.358249606 * t);
-        Z0 += 0.00000002079 * Math.cos(5.08007114480 + 7.065362891 * t);
-        Z0 += 0.00000002351 * Math.cos(0.26849523535 + 140.001969579 * t);
-        Z0 += 0.00000002770 * Math.cos(4.57559729641 + 24.3790223882 * t);
-        Z0 += 0.00000002705 * Math.cos(4.32491993913 + 46.470422916 * t);
-        Z0 += 0.00000002052 * Math.cos(1.22649156182 + 92.0470739547 * t);
-        Z0 += 0.00000002046 * Math.cos(5.19173373776 + 347.8844390456 * t);
-        Z0 += 0.00000002036 * Math.cos(2.88971262431 + 980.6681783588 * t);
-        Z0 += 0.00000002481 * Math.cos(1.55318712059 + 576.1613880106 * t);
-        Z0 += 0.00000002024 * Math.cos(4.32935289944 + 31.019488637 * t);
-        Z0 += 0.00000002006 * Math.cos(2.01138855049 + 211.8628068395 * t);
-        Z0 += 0.00000002006 * Math.cos(2.87823761610 + 214.7353840365 * t);
-        Z0 += 0.00000002026 * Math.cos(2.42235724251 + 2641.3412784722 * t);
-        Z0 += 0.00000001938 * Math.cos(2.48016602910 + 487.3651437628 * t);
-        Z0 += 0.00000002065 * Math.cos(1.16081214330 + 192.6921676185 * t);
-        Z0 += 0.00000002254 * Math.cos(5.99623174740 + 1905.4647649404 * t);
-        Z0 += 0.00000001922 * Math.cos(5.98223148262 + 96.8729990951 * t);
-        Z0 += 0.00000002534 * Math.cos(2.62272549680 + 421.93232443 * t);
-        Z0 += 0.00000002106 * Math.cos(1.84883841490 + 299.1263942692 * t);
-        Z0 += 0.00000002211 * Math.cos(1.86083014117 + 221.1634019642 * t);
-        Z0 += 0.00000002083 * Math.cos(6.14443432076 + 59.8037450403 * t);
-        Z0 += 0.00000001909 * Math.cos(1.13231253998 + 282.4516197128 * t);
-        Z0 += 0.00000001898 * Math.cos(3.53454927143 + 219.6618829134 * t);
-        Z0 += 0.00000002007 * Math.cos(4.35167828920 + 444.7574381407 * t);
-        Z0 += 0.00000001974 * Math.cos(5.78637079670 + 430.79097657 * t);
-        Z0 += 0.00000001937 * Math.cos(4.03561100629 + 429.5189521828 * t);
-        Z0 += 0.00000001838 * Math.cos(2.97004270413 + 425.8474313506 * t);
-        Z0 += 0.00000001880 * Math.cos(3.59058053053 + 3340.6124266998 * t);
-        Z0 += 0.00000001858 * Math.cos(5.83605607376 + 280.9671470045 * t);
-        Z0 += 0.00000001768 * Math.cos(4.86059839675 + 2118.7638603784 * t);
-        Z0 += 0.00000002128 * Math.cos(3.95375781114 + 831.1049812242 * t);
-        Z0 += 0.00000002111 * Math.cos(5.51034879271 + 428.0826635843 * t);
-        Z0 += 0.00000002359 * Math.cos(3.95534711749 + 2.9689454166 * t);
-        Z0 += 0.00000002084 * Math.cos(4.99656154667 + 254.9435932136 * t);
-        Z0 += 0.00000002189 * Math.cos(5.75843317256 + 418.5214360287 * t);
-        Z0 += 0.00000002225 * Math.cos(5.22774546552 + 638.4128136057 * t);
-        Z0 += 0.00000002362 * Math.cos(0.10821349524 + 131.4039498699 * t);
-        Z0 += 0.00000001938 * Math.cos(3.62212314488 + 267.4737661858 * t);
-        Z0 += 0.00000002349 * Math.cos(2.45602769901 + 2524.021410252 * t);
-        Z0 += 0.00000001752 * Math.cos(0.17721513623 + 969.6224780949 * t);
-        Z0 += 0.00000002216 * Math.cos(4.46378373321 + 353.301065017 * t);
-        Z0 += 0.00000001697 * Math.cos(3.74680430424 + 421.1815649046 * t);
-        Z0 += 0.00000001692 * Math.cos(1.29673821700 + 2840.4132799086 * t);
-        Z0 += 0.00000001698 * Math.cos(2.09387250037 + 292.0128472684 * t);
-        Z0 += 0.00000002118 * Math.cos(2.90133577623 + 205.4347889118 * t);
-        Z0 += 0.00000002049 * Math.cos(1.88559014939 + 199.2844497575 * t);
-        Z0 += 0.00000001712 * Math.cos(2.97477489664 + 273.1028404783 * t);
-        Z0 += 0.00000001828 * Math.cos(2.23147050409 + 1781.0313497194 * t);
-        Z0 += 0.00000001933 * Math.cos(3.33016281296 + 533.6231183577 * t);
-        Z0 += 0.00000001737 * Math.cos(2.59432238776 + 264.5048207692 * t);
-        Z0 += 0.00000001676 * Math.cos(2.73737546375 + 3480.3105662226 * t);
-        Z0 += 0.00000001935 * Math.cos(2.01080991907 + 7.1617311106 * t);
-        Z0 += 0.00000001602 * Math.cos(4.81017819939 + 1382.8873468466 * t);
-        Z0 += 0.00000001894 * Math.cos(4.74702697079 + 558.0021407459 * t);
-        Z0 += 0.00000001589 * Math.cos(0.85622467383 + 1044.4040766622 * t);
-        Z0 += 0.00000001565 * Math.cos(5.03064453644 + 458.8415197904 * t);
-        Z0 += 0.00000001648 * Math.cos(5.00766073214 + 2648.454825473 * t);
-        Z0 += 0.00000001562 * Math.cos(4.62304098893 + 543.0242872189 * t);
-        Z0 += 0.00000001794 * Math.cos(2.92299868481 + 227.3137411185 * t);
-        Z0 += 0.00000001844 * Math.cos(6.25012647811 + 432.2272651685 * t);
-        Z0 += 0.00000001821 * Math.cos(5.47892889469 + 205.6642835754 * t);
-        Z0 += 0.00000001605 * Math.cos(2.57251520836 + 3127.3133312618 * t);
-        Z0 += 0.00000001477 * Math.cos(1.36669731999 + 206.9363079626 * t);
-        Z0 += 0.00000001468 * Math.cos(4.67912895132 + 339.2864193365 * t);
-        Z0 += 0.00000001481 * Math.cos(0.92457754588 + 1994.3304451574 * t);
-        Z0 += 0.00000001547 * Math.cos(0.13419340100 + 465.9550667912 * t);
-        Z0 += 0.00000001457 * Math.cos(0.52628058703 + 427.3489504014 * t);
-        Z0 += 0.00000001902 * Math.cos(1.24600006636 + 166.828672522 * t);
-        Z0 += 0.00000001529 * Math.cos(2.85370771355 + 209.1544938538 * t);
-        Z0 += 0.00000001494 * Math.cos(3.66845408834 + 1182.9215735329 * t);
-        Z0 += 0.00000001588 * Math.cos(1.63988438811 + 3163.918696566 * t);
-        Z0 += 0.00000001502 * Math.cos(4.96348459770 + 373.9079928365 * t);
-        Z0 += 0.00000001608 * Math.cos(3.59138122093 + 233.9060232575 * t);
-        Z0 += 0.00000001460 * Math.cos(1.17818401345 + 92.940845832 * t);
-        Z0 += 0.00000001462 * Math.cos(5.05747764334 + 33.9402499438 * t);
-        Z0 += 0.00000001490 * Math.cos(2.03601440129 + 217.4436970222 * t);
-        Z0 += 0.00000001688 * Math.cos(1.50928274793 + 815.0633461142 * t);
-        Z0 += 0.00000001778 * Math.cos(0.24563726151 + 6.592282139 * t);
-        Z0 += 0.00000001834 * Math.cos(3.98017256784 + 212.4053235607 * t);
-        Z0 += 0.00000001834 * Math.cos(0.90945359875 + 214.1928673153 * t);
-        Z0 += 0.00000001451 * Math.cos(3.59438611623 + 494.2662424425 * t);
-        Z0 += 0.00000001474 * Math.cos(4.97772142978 + 1699.2792165032 * t);
-        Z0 += 0.00000001388 * Math.cos(4.77847833406 + 2854.6403739102 * t);
-        Z0 += 0.00000001589 * Math.cos(5.43527416407 + 2538.2485042536 * t);
-        Z0 += 0.00000001390 * Math.cos(4.08155384651 + 894.8408795276 * t);
-        Z0 += 0.00000001435 * Math.cos(1.51395699369 + 867.4234757536 * t);
-        Z0 += 0.00000001404 * Math.cos(4.02343833901 + 300.6108669775 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 217 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.01906503283 * Math.cos(4.94544746116 + 213.299095438 * t);
-        Z1 -= 0.00528301265;
-        Z1 += 0.00130262284 * Math.cos(2.26140980879 + 206.1855484372 * t);
-        Z1 += 0.00101466332 * Math.cos(1.79095829545 + 220.4126424388 * t);
-        Z1 += 0.00085947578 * Math.cos(0.51612788497 + 426.598190876 * t);
-        Z1 += 0.00022257446 * Math.cos(3.07684015656 + 7.1135470008 * t);
-        Z1 += 0.00016179946 * Math.cos(1.19987517506 + 419.4846438752 * t);
-        Z1 += 0.00009117402 * Math.cos(6.17205626814 + 639.897286314 * t);
-        Z1 += 0.00007470703 * Math.cos(0.93135621171 + 433.7117378768 * t);
-        Z1 += 0.00004966668 * Math.cos(0.19044864213 + 316.3918696566 * t);
-        Z1 += 0.00003816564 * Math.cos(4.38284565245 + 110.2063212194 * t);
-        Z1 += 0.00002724120 * Math.cos(1.65580138665 + 227.5261894396 * t);
-        Z1 += 0.00001734540 * Math.cos(3.51628075636 + 103.0927742186 * t);
-        Z1 += 0.00001541995 * Math.cos(2.42323572812 + 199.0720014364 * t);
-        Z1 += 0.00001209302 * Math.cos(2.91140089093 + 14.2270940016 * t);
-        Z1 += 0.00000866838 * Math.cos(0.73856780280 + 632.7837393132 * t);
-        Z1 += 0.00000879041 * Math.cos(2.44338509079 + 217.2312487011 * t);
-        Z1 += 0.00000734372 * Math.cos(2.73478985417 + 210.1177017003 * t);
-        Z1 += 0.00000722775 * Math.cos(5.44726167811 + 853.196381752 * t);
-        Z1 += 0.00000651363 * Math.cos(1.48968855554 + 209.3669421749 * t);
-        Z1 += 0.00000582461 * Math.cos(0.11224949820 + 647.0108333148 * t);
-        Z1 += 0.00000657945 * Math.cos(1.31442181621 + 216.4804891757 * t);
-        Z1 += 0.00000510204 * Math.cos(1.75579678660 + 202.2533951741 * t);
-        Z1 += 0.00000467826 * Math.cos(2.04967300315 + 323.5054166574 * t);
-        Z1 += 0.00000449108 * Math.cos(2.82333930488 + 117.3198682202 * t);
-        Z1 += 0.00000309971 * Math.cos(2.20380300055 + 224.3447957019 * t);
-        Z1 += 0.00000226192 * Math.cos(0.85233380252 + 440.8252848776 * t);
-        Z1 += 0.00000185756 * Math.cos(1.27629128235 + 529.6909650946 * t);
-        Z1 += 0.00000177430 * Math.cos(0.67755587853 + 309.2783226558 * t);
-        Z1 += 0.00000214346 * Math.cos(4.69288132929 + 11.0457002639 * t);
-        Z1 += 0.00000142289 * Math.cos(1.34444047746 + 95.9792272178 * t);
-        Z1 += 0.00000121733 * Math.cos(1.54733882587 + 63.7358983034 * t);
-        Z1 += 0.00000124732 * Math.cos(4.78897151261 + 522.5774180938 * t);
-        Z1 += 0.00000117048 * Math.cos(0.50415140377 + 735.8765135318 * t);
-        Z1 += 0.00000126962 * Math.cos(1.40560397506 + 412.3710968744 * t);
-        Z1 += 0.00000118129 * Math.cos(4.62838752214 + 846.0828347512 * t);
-        Z1 += 0.00000067806 * Math.cos(0.40102898433 + 149.5631971346 * t);
-        Z1 += 0.00000067952 * Math.cos(4.60474899910 + 215.7467759928 * t);
-        Z1 += 0.00000078293 * Math.cos(3.26031102191 + 277.0349937414 * t);
-        Z1 += 0.00000058447 * Math.cos(2.70674418979 + 3.1813937377 * t);
-        Z1 += 0.00000057495 * Math.cos(4.15246081510 + 415.5524906121 * t);
-        Z1 += 0.00000056149 * Math.cos(4.11058404699 + 1162.4747044078 * t);
-        Z1 += 0.00000055408 * Math.cos(1.51354163855 + 234.6397364404 * t);
-        Z1 += 0.00000057884 * Math.cos(1.72832352555 + 330.6189636582 * t);
-        Z1 += 0.00000051032 * Math.cos(5.09783807355 + 3.9321532631 * t);
-        Z1 += 0.00000054483 * Math.cos(4.72482085704 + 1066.49547719 * t);
-        Z1 += 0.00000065605 * Math.cos(0.40831715964 + 422.6660376129 * t);
-        Z1 += 0.00000052398 * Math.cos(1.85751217072 + 423.4167971383 * t);
-        Z1 += 0.00000048311 * Math.cos(5.76774562578 + 210.8514148832 * t);
-        Z1 += 0.00000045825 * Math.cos(5.60012609774 + 860.3099287528 * t);
-        Z1 += 0.00000042398 * Math.cos(0.25086899346 + 1052.2683831884 * t);
-        Z1 += 0.00000042866 * Math.cos(1.01434509069 + 536.8045120954 * t);
-        Z1 += 0.00000051422 * Math.cos(3.03212480799 + 742.9900605326 * t);
-        Z1 += 0.00000044935 * Math.cos(0.51847195684 + 429.7795846137 * t);
-        Z1 += 0.00000033430 * Math.cos(2.45707742085 + 430.5303441391 * t);
-        Z1 += 0.00000033541 * Math.cos(2.76204651966 + 21.3406410024 * t);
-        Z1 += 0.00000030208 * Math.cos(4.43680762317 + 838.9692877504 * t);
-        Z1 += 0.00000037633 * Math.cos(5.50629421677 + 949.1756089698 * t);
-        Z1 += 0.00000033424 * Math.cos(1.74752373535 + 437.6438911399 * t);
-        Z1 += 0.00000034043 * Math.cos(1.19174438930 + 223.5940361765 * t);
-        Z1 += 0.00000027260 * Math.cos(2.19815364804 + 490.3340891794 * t);
-        Z1 += 0.00000029335 * Math.cos(4.99025404893 + 515.463871093 * t);
-        Z1 += 0.00000023456 * Math.cos(3.13845060248 + 74.7815985673 * t);
-        Z1 += 0.00000023381 * Math.cos(1.20660558774 + 88.865680217 * t);
-        Z1 += 0.00000024187 * Math.cos(1.56373114114 + 124.433415221 * t);
-        Z1 += 0.00000021789 * Math.cos(3.85669545186 + 1478.8665740644 * t);
-        Z1 += 0.00000028027 * Math.cos(2.73744546150 + 1059.3819301892 * t);
-        Z1 += 0.00000020026 * Math.cos(2.90747764480 + 203.0041546995 * t);
-        Z1 += 0.00000019633 * Math.cos(0.06158742119 + 654.1243803156 * t);
-        Z1 += 0.00000018954 * Math.cos(5.59002140439 + 203.7378678824 * t);
-        Z1 += 0.00000017709 * Math.cos(1.87617250329 + 137.0330241624 * t);
-        Z1 += 0.00000017769 * Math.cos(0.01632384963 + 302.164775655 * t);
-        Z1 += 0.00000016148 * Math.cos(6.24824370719 + 1368.660252845 * t);
-        Z1 += 0.00000013816 * Math.cos(5.06584035631 + 625.6701923124 * t);
-        Z1 += 0.00000013533 * Math.cos(5.47658747033 + 217.964961884 * t);
-        Z1 += 0.00000013265 * Math.cos(3.80591212548 + 728.762966531 * t);
-        Z1 += 0.00000013270 * Math.cos(3.43877857351 + 351.8165923087 * t);
-        Z1 += 0.00000016625 * Math.cos(5.31689217526 + 1265.5674786264 * t);
-        Z1 += 0.00000016759 * Math.cos(0.35928972666 + 127.4717966068 * t);
-        Z1 += 0.00000016432 * Math.cos(5.56181596719 + 942.062061969 * t);
-        Z1 += 0.00000017168 * Math.cos(1.73825643839 + 138.5174968707 * t);
-        Z1 += 0.00000013738 * Math.cos(4.31097928238 + 1155.361157407 * t);
-        Z1 += 0.00000012548 * Math.cos(2.88960022005 + 231.4583427027 * t);
-        Z1 += 0.00000014146 * Math.cos(3.98643812146 + 195.1398481733 * t);
-        Z1 += 0.00000013973 * Math.cos(4.86218215819 + 208.633228992 * t);
-        Z1 += 0.00000010571 * Math.cos(2.45820467886 + 10.2949407385 * t);
-        Z1 += 0.00000010509 * Math.cos(3.03611437454 + 38.1330356378 * t);
-        Z1 += 0.00000011510 * Math.cos(4.63923085971 + 628.8515860501 * t);
-        Z1 += 0.00000013727 * Math.cos(0.66439765546 + 85.8272988312 * t);
-        Z1 += 0.00000010173 * Math.cos(3.58197312694 + 18.1592472647 * t);
-        Z1 += 0.00000010439 * Math.cos(6.27556671354 + 76.2660712756 * t);
-        Z1 += 0.00000009694 * Math.cos(0.86976616980 + 408.4389436113 * t);
-        Z1 += 0.00000009354 * Math.cos(1.32092608711 + 210.3783341312 * t);
-        Z1 += 0.00000010071 * Math.cos(1.48889940912 + 218.7157214094 * t);
-        Z1 += 0.00000011184 * Math.cos(6.02461705687 + 191.2076949102 * t);
-        Z1 += 0.00000008726 * Math.cos(5.30389752427 + 207.6700211455 * t);
-        Z1 += 0.00000009584 * Math.cos(2.47120940305 + 200.7689224658 * t);
-        Z1 += 0.00000009611 * Math.cos(2.41761563717 + 340.7708920448 * t);
-        Z1 += 0.00000008286 * Math.cos(4.32556970704 + 222.8603229936 * t);
-        Z1 += 0.00000008287 * Math.cos(3.58071495915 + 1795.258443721 * t);
-        Z1 += 0.00000008038 * Math.cos(2.85526575273 + 191.9584544356 * t);
-        Z1 += 0.00000007775 * Math.cos(6.20277851494 + 362.8622925726 * t);
-        Z1 += 0.00000008724 * Math.cos(4.70273397649 + 831.8557407496 * t);
-        Z1 += 0.00000007487 * Math.cos(5.24393231687 + 214.2623032845 * t);
-        Z1 += 0.00000009808 * Math.cos(3.71994359218 + 350.3321196004 * t);
-        Z1 += 0.00000007520 * Math.cos(1.51238938306 + 212.3358875915 * t);
-        Z1 += 0.00000006967 * Math.cos(6.14764780396 + 265.9892934775 * t);
-        Z1 += 0.00000007930 * Math.cos(2.38845142534 + 207.8824694666 * t);
-        Z1 += 0.00000006526 * Math.cos(5.97355876891 + 1685.0521225016 * t);
-        Z1 += 0.00000006383 * Math.cos(0.76399546198 + 142.4496501338 * t);
-        Z1 += 0.00000008591 * Math.cos(4.23329326783 + 52.6901980395 * t);
-        Z1 += 0.00000007895 * Math.cos(5.28983476924 + 1258.4539316256 * t);
-        Z1 += 0.00000006270 * Math.cos(1.55039102252 + 56.6223513026 * t);
-        Z1 += 0.00000006596 * Math.cos(6.06955286464 + 618.5566453116 * t);
-        Z1 += 0.00000007305 * Math.cos(5.10230083831 + 1581.959348283 * t);
-        Z1 += 0.00000006510 * Math.cos(2.58766047235 + 160.6088973985 * t);
-        Z1 += 0.00000006396 * Math.cos(4.05175128194 + 1471.7530270636 * t);
-        Z1 += 0.00000006222 * Math.cos(1.83534241087 + 213.3472795478 * t);
-        Z1 += 0.00000005967 * Math.cos(6.10561287765 + 209.106309744 * t);
-        Z1 += 0.00000005430 * Math.cos(0.73930957950 + 447.9388318784 * t);
-        Z1 += 0.00000005422 * Math.cos(0.89394666012 + 22.0914005278 * t);
-        Z1 += 0.00000006010 * Math.cos(5.59380340709 + 483.2205421786 * t);
-        Z1 += 0.00000005756 * Math.cos(1.17220111999 + 70.8494453042 * t);
-        Z1 += 0.00000005508 * Math.cos(0.23756513534 + 750.1036075334 * t);
-        Z1 += 0.00000005736 * Math.cos(4.98124695327 + 218.9281697305 * t);
-        Z1 += 0.00000006223 * Math.cos(4.92073192158 + 213.2509113282 * t);
-        Z1 += 0.00000006028 * Math.cos(5.84835751560 + 635.9651330509 * t);
-        Z1 += 0.00000004583 * Math.cos(3.14247250829 + 1375.7737998458 * t);
-        Z1 += 0.00000005682 * Math.cos(1.25271749641 + 225.8292684102 * t);
-        Z1 += 0.00000004307 * Math.cos(4.70978533037 + 424.1505103212 * t);
-        Z1 += 0.00000005989 * Math.cos(2.68952514002 + 216.2198567448 * t);
-        Z1 += 0.00000005256 * Math.cos(0.01969964251 + 269.9214467406 * t);
-        Z1 += 0.00000004270 * Math.cos(3.35479531672 + 1045.1548361876 * t);
-        Z1 += 0.00000004124 * Math.cos(4.55060879049 + 235.3904959658 * t);
-        Z1 += 0.00000004323 * Math.cos(4.14790272459 + 1279.794572628 * t);
-        Z1 += 0.00000004166 * Math.cos(6.09766763608 + 1.4844727083 * t);
-        Z1 += 0.00000004884 * Math.cos(0.86865640572 + 543.9180590962 * t);
-        Z1 += 0.00000004069 * Math.cos(2.60100005478 + 554.0699874828 * t);
-        Z1 += 0.00000004878 * Math.cos(5.04922604658 + 1574.8458012822 * t);
-        Z1 += 0.00000003915 * Math.cos(2.97379506367 + 106.2741679563 * t);
-        Z1 += 0.00000003843 * Math.cos(4.98162442107 + 497.4476361802 * t);
-        Z1 += 0.00000003824 * Math.cos(3.45246107016 + 388.4651552382 * t);
-        Z1 += 0.00000004575 * Math.cos(6.20805088569 + 288.0806940053 * t);
-        Z1 += 0.00000004025 * Math.cos(3.79300651947 + 12.5301729722 * t);
-        Z1 += 0.00000003723 * Math.cos(4.85309927868 + 1073.6090241908 * t);
-        Z1 += 0.00000003610 * Math.cos(5.94058751363 + 934.9485149682 * t);
-        Z1 += 0.00000003663 * Math.cos(2.61919749562 + 113.3877149571 * t);
-        Z1 += 0.00000003915 * Math.cos(4.45024378168 + 1148.2476104062 * t);
-        Z1 += 0.00000003357 * Math.cos(4.43225060692 + 219.4494345923 * t);
-        Z1 += 0.00000003882 * Math.cos(3.74682686736 + 703.6331846174 * t);
-        Z1 += 0.00000003314 * Math.cos(3.41625676576 + 2111.6503133776 * t);
-        Z1 += 0.00000003270 * Math.cos(6.27410700801 + 212.7778305762 * t);
-        Z1 += 0.00000003141 * Math.cos(1.45568133680 + 650.9429865779 * t);
-        Z1 += 0.00000003103 * Math.cos(5.65046683605 + 2001.4439921582 * t);
-        Z1 += 0.00000003028 * Math.cos(3.42518715666 + 956.2891559706 * t);
-        Z1 += 0.00000003012 * Math.cos(4.45827269601 + 107.0249274817 * t);
-        Z1 += 0.00000003261 * Math.cos(0.48253112370 + 213.8203602998 * t);
-        Z1 += 0.00000003058 * Math.cos(4.77954182227 + 212.5483359126 * t);
-        Z1 += 0.00000003018 * Math.cos(4.95707802560 + 1898.3512179396 * t);
-        Z1 += 0.00000002951 * Math.cos(1.31088973653 + 344.7030453079 * t);
-        Z1 += 0.00000002877 * Math.cos(3.78456494258 + 1788.1448967202 * t);
-        Z1 += 0.00000003574 * Math.cos(6.01403213335 + 643.0786800517 * t);
-        Z1 += 0.00000002649 * Math.cos(4.08901068887 + 284.1485407422 * t);
-        Z1 += 0.00000003174 * Math.cos(1.19063213567 + 337.732510659 * t);
-        Z1 += 0.00000002623 * Math.cos(1.69713528262 + 636.7158925763 * t);
-        Z1 += 0.00000003581 * Math.cos(4.12344575096 + 9.5612275556 * t);
-        Z1 += 0.00000002743 * Math.cos(5.32978008284 + 565.1156877467 * t);
-        Z1 += 0.00000002507 * Math.cos(0.83753919585 + 436.8931316145 * t);
-        Z1 += 0.00000002398 * Math.cos(2.60430644776 + 404.5067903482 * t);
-        Z1 += 0.00000002917 * Math.cos(0.89207515266 + 417.0369633204 * t);
-        Z1 += 0.00000002972 * Math.cos(4.71447928798 + 1891.2376709388 * t);
-        Z1 += 0.00000002623 * Math.cos(0.01647605955 + 207.1487562837 * t);
-        Z1 += 0.00000002187 * Math.cos(0.95383665392 + 114.3991069134 * t);
-        Z1 += 0.00000002936 * Math.cos(3.84290338749 + 217.491881132 * t);
-        Z1 += 0.00000002409 * Math.cos(3.56267761888 + 1169.5882514086 * t);
-        Z1 += 0.00000002157 * Math.cos(3.02442510484 + 1692.1656695024 * t);
-        Z1 += 0.00000002262 * Math.cos(4.25820830689 + 98.8999885246 * t);
-        Z1 += 0.00000002141 * Math.cos(1.82853778649 + 479.2883889155 * t);
-        Z1 += 0.00000002564 * Math.cos(0.84277674835 + 358.9301393095 * t);
-        Z1 += 0.00000002209 * Math.cos(4.80292631309 + 2214.7430875962 * t);
-        Z1 += 0.00000002136 * Math.cos(2.96715839944 + 1361.5467058442 * t);
-        Z1 += 0.00000002069 * Math.cos(5.15304621208 + 220.4608265486 * t);
-        Z1 += 0.00000002140 * Math.cos(5.38666672806 + 175.1660598002 * t);
-        Z1 += 0.00000002003 * Math.cos(2.47564274875 + 416.3032501375 * t);
-        Z1 += 0.00000002085 * Math.cos(4.09277149039 + 1272.6810256272 * t);
-        Z1 += 0.00000002088 * Math.cos(5.05465836254 + 251.4321310758 * t);
-        Z1 += 0.00000002082 * Math.cos(4.63603111699 + 121.2520214833 * t);
-        Z1 += 0.00000001861 * Math.cos(4.45402970588 + 508.3503240922 * t);
-        Z1 += 0.00000002005 * Math.cos(4.66254689609 + 429.0458714308 * t);
-        Z1 += 0.00000002045 * Math.cos(3.73820015775 + 114.1384744825 * t);
-        Z1 += 0.00000002093 * Math.cos(0.87904326630 + 4.665866446 * t);
-        Z1 += 0.00000002056 * Math.cos(2.39618093351 + 2435.155730035 * t);
-        Z1 += 0.00000002022 * Math.cos(5.80214824265 + 181.0557665236 * t);
-        Z1 += 0.00000001881 * Math.cos(1.13062277248 + 757.2171545342 * t);
-        Z1 += 0.00000001707 * Math.cos(1.57935987501 + 6069.7767545534 * t);
-        Z1 += 0.00000001746 * Math.cos(3.06455575770 + 2008.557539159 * t);
-        Z1 += 0.00000001795 * Math.cos(2.95316519456 + 1781.0313497194 * t);
-        Z1 += 0.00000001786 * Math.cos(5.44879791643 + 245.5424243524 * t);
-        Z1 += 0.00000001642 * Math.cos(1.87652377033 + 177.8743727859 * t);
-        Z1 += 0.00000001614 * Math.cos(5.96461527769 + 867.4234757536 * t);
-        Z1 += 0.00000001623 * Math.cos(0.63294345223 + 621.7380390493 * t);
-        Z1 += 0.00000001553 * Math.cos(1.32350368373 + 131.5469622218 * t);
-        Z1 += 0.00000001599 * Math.cos(0.86145918975 + 81.7521332162 * t);
-        Z1 += 0.00000001513 * Math.cos(3.01415732754 + 2428.0421830342 * t);
-        Z1 += 0.00000001939 * Math.cos(2.25124681713 + 1677.9385755008 * t);
-        Z1 += 0.00000001827 * Math.cos(5.04434694439 + 842.1506814881 * t);
-        Z1 += 0.00000001748 * Math.cos(5.85086226218 + 173.9422195228 * t);
-        Z1 += 0.00000001652 * Math.cos(2.76139225258 + 643.8294395771 * t);
-        Z1 += 0.00000001511 * Math.cos(3.22650702148 + 99.1606209555 * t);
-        Z1 += 0.00000001714 * Math.cos(4.99601182685 + 2317.8358618148 * t);
-        Z1 += 0.00000001990 * Math.cos(2.08785550062 + 2420.9286360334 * t);
-        Z1 += 0.00000001664 * Math.cos(0.14097949424 + 151.0476698429 * t);
-        Z1 += 0.00000001480 * Math.cos(2.89230197932 + 355.7487455718 * t);
-        Z1 += 0.00000001425 * Math.cos(3.02679993106 + 248.7238180901 * t);
-        Z1 += 0.00000001384 * Math.cos(2.33959628851 + 444.7574381407 * t);
-        Z1 += 0.00000001458 * Math.cos(5.37055128984 + 148.0787244263 * t);
-        Z1 += 0.00000001464 * Math.cos(6.11985601662 + 206.1373643274 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 87 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00131275155 * Math.cos(0.08868998101 + 213.299095438 * t);
-        Z2 += 0.00030147649 * Math.cos(3.91396203887 + 206.1855484372 * t);
-        Z2 += 0.00019322173 * Math.cos(0.09228748624 + 220.4126424388 * t);
-        Z2 += 0.00006868926 * Math.cos(5.48420255395 + 426.598190876 * t);
-        Z2 += 0.00002826107 * Math.cos(1.36583318555 + 7.1135470008 * t);
-        Z2 += 0.00002646332 * Math.cos(2.94607395955 + 419.4846438752 * t);
-        Z2 += 0.00003138233;
-        Z2 += 0.00001844798 * Math.cos(5.43612062856 + 433.7117378768 * t);
-        Z2 += 0.00001055383 * Math.cos(6.23890785179 + 227.5261894396 * t);
-        Z2 += 0.00001036435 * Math.cos(4.33916308552 + 639.897286314 * t);
-        Z2 += 0.00000634611 * Math.cos(4.10413821983 + 199.0720014364 * t);
-        Z2 += 0.00000493127 * Math.cos(1.74516983084 + 316.3918696566 * t);
-        Z2 += 0.00000384993 * Math.cos(1.22066829531 + 14.2270940016 * t);
-        Z2 += 0.00000239476 * Math.cos(4.47935921474 + 210.1177017003 * t);
-        Z2 += 0.00000205194 * Math.cos(1.76728126877 + 110.2063212194 * t);
-        Z2 += 0.00000176308 * Math.cos(4.56317761920 + 647.0108333148 * t);
-        Z2 += 0.00000150033 * Math.cos(4.33649711181 + 103.0927742186 * t);
-        Z2 += 0.00000148023 * Math.cos(4.28188112046 + 217.2312487011 * t);
-        Z2 += 0.00000184735 * Math.cos(5.81729679119 + 216.4804891757 * t);
-        Z2 += 0.00000128877 * Math.cos(2.62827363828 + 632.7837393132 * t);
-        Z2 += 0.00000100020 * Math.cos(5.38535854003 + 440.8252848776 * t);
-        Z2 += 0.00000092666 * Math.cos(1.20622589441 + 117.3198682202 * t);
-        Z2 += 0.00000121332 * Math.cos(3.47780478719 + 853.196381752 * t);
-        Z2 += 0.00000086968 * Math.cos(5.92619695759 + 209.3669421749 * t);
-        Z2 += 0.00000056696 * Math.cos(0.46733705639 + 323.5054166574 * t);
-        Z2 += 0.00000051546 * Math.cos(3.14926659859 + 202.2533951741 * t);
-        Z2 += 0.00000054658 * Math.cos(3.01021120875 + 412.3710968744 * t);
-        Z2 += 0.00000032218 * Math.cos(6.09457934158 + 234.6397364404 * t);
-        Z2 += 0.00000037587 * Math.cos(2.30467949390 + 529.6909650946 * t);
-        Z2 += 0.00000032681 * Math.cos(3.01893080236 + 309.2783226558 * t);
-        Z2 += 0.00000027740 * Math.cos(3.18735286796 + 95.9792272178 * t);
-        Z2 += 0.00000019282 * Math.cos(0.27555296168 + 224.3447957019 * t);
-        Z2 += 0.00000017381 * Math.cos(1.07924221725 + 21.3406410024 * t);
-        Z2 += 0.00000016304 * Math.cos(3.71897508099 + 860.3099287528 * t);
-        Z2 += 0.00000013436 * Math.cos(3.73879936403 + 423.4167971383 * t);
-        Z2 += 0.00000015102 * Math.cos(0.02346987379 + 330.6189636582 * t);
-        Z2 += 0.00000013774 * Math.cos(0.25334550410 + 3.9321532631 * t);
-        Z2 += 0.00000015896 * Math.cos(5.68181987799 + 223.5940361765 * t);
-        Z2 += 0.00000014105 * Math.cos(0.24960426678 + 522.5774180938 * t);
-        Z2 += 0.00000015147 * Math.cos(4.93843585740 + 429.7795846137 * t);
-        Z2 += 0.00000012327 * Math.cos(4.80179468989 + 422.6660376129 * t);
-        Z2 += 0.00000010457 * Math.cos(0.89680214250 + 3.1813937377 * t);
-        Z2 += 0.00000010434 * Math.cos(4.69863675329 + 203.0041546995 * t);
-        Z2 += 0.00000010092 * Math.cos(6.08646339762 + 124.433415221 * t);
-        Z2 += 0.00000012374 * Math.cos(2.72742788024 + 1066.49547719 * t);
-        Z2 += 0.00000009316 * Math.cos(2.92660214659 + 88.865680217 * t);
-        Z2 += 0.00000011165 * Math.cos(4.47469129108 + 11.0457002639 * t);
-        Z2 += 0.00000009675 * Math.cos(4.54865123798 + 654.1243803156 * t);
-        Z2 += 0.00000008155 * Math.cos(6.19382665540 + 415.5524906121 * t);
-        Z2 += 0.00000009179 * Math.cos(1.56314990824 + 742.9900605326 * t);
-        Z2 += 0.00000009366 * Math.cos(4.88722886988 + 277.0349937414 * t);
-        Z2 += 0.00000006493 * Math.cos(4.43377180184 + 191.9584544356 * t);
-        Z2 += 0.00000005970 * Math.cos(6.13227111688 + 63.7358983034 * t);
-        Z2 += 0.00000005743 * Math.cos(5.48648092848 + 149.5631971346 * t);
-        Z2 += 0.00000006020 * Math.cos(5.88359837552 + 735.8765135318 * t);
-        Z2 += 0.00000006285 * Math.cos(0.34693933458 + 515.463871093 * t);
-        Z2 += 0.00000006935 * Math.cos(0.77796862892 + 949.1756089698 * t);
-        Z2 += 0.00000005259 * Math.cos(4.46395984779 + 430.5303441391 * t);
-        Z2 += 0.00000004473 * Math.cos(1.82185358188 + 1059.3819301892 * t);
-        Z2 += 0.00000004112 * Math.cos(5.13362859612 + 625.6701923124 * t);
-        Z2 += 0.00000004862 * Math.cos(5.52438554040 + 536.8045120954 * t);
-        Z2 += 0.00000003942 * Math.cos(0.63354697459 + 10.2949407385 * t);
-        Z2 += 0.00000003875 * Math.cos(5.91484244505 + 437.6438911399 * t);
-        Z2 += 0.00000003734 * Math.cos(6.15283978599 + 838.9692877504 * t);
-        Z2 += 0.00000003458 * Math.cos(5.48363967638 + 728.762966531 * t);
-        Z2 += 0.00000003345 * Math.cos(5.97838746664 + 215.7467759928 * t);
-        Z2 += 0.00000003305 * Math.cos(4.83153821501 + 74.7815985673 * t);
-        Z2 += 0.00000003588 * Math.cos(1.04087840499 + 942.062061969 * t);
-        Z2 += 0.00000003589 * Math.cos(5.28302198799 + 447.9388318784 * t);
-        Z2 += 0.00000002981 * Math.cos(1.38021533477 + 231.4583427027 * t);
-        Z2 += 0.00000002856 * Math.cos(1.86665866713 + 302.164775655 * t);
-        Z2 += 0.00000002269 * Math.cos(2.10089264689 + 18.1592472647 * t);
-        Z2 += 0.00000002766 * Math.cos(0.40134293559 + 846.0828347512 * t);
-        Z2 += 0.00000002088 * Math.cos(1.82541193746 + 1471.7530270636 * t);
-        Z2 += 0.00000001990 * Math.cos(0.79685389889 + 210.8514148832 * t);
-        Z2 += 0.00000002040 * Math.cos(5.80760536835 + 1162.4747044078 * t);
-        Z2 += 0.00000001934 * Math.cos(0.04319189448 + 195.1398481733 * t);
-        Z2 += 0.00000001949 * Math.cos(0.83703762066 + 1265.5674786264 * t);
-        Z2 += 0.00000002107 * Math.cos(0.59861697225 + 1258.4539316256 * t);
-        Z2 += 0.00000001868 * Math.cos(0.23989474559 + 1898.3512179396 * t);
-        Z2 += 0.00000001840 * Math.cos(3.14880532464 + 408.4389436113 * t);
-        Z2 += 0.00000001589 * Math.cos(3.33563676583 + 1073.6090241908 * t);
-        Z2 += 0.00000001824 * Math.cos(0.08294127784 + 831.8557407496 * t);
-        Z2 += 0.00000001751 * Math.cos(1.22063055823 + 203.7378678824 * t);
-        Z2 += 0.00000001874 * Math.cos(0.84722174143 + 1375.7737998458 * t);
-        Z2 += 0.00000001596 * Math.cos(0.64727508404 + 618.5566453116 * t);
-        Z2 += 0.00000001504 * Math.cos(2.13190551837 + 1368.660252845 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 44 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00004559419 * Math.cos(1.70646871501 + 213.299095438 * t);
-        Z3 += 0.00004779074 * Math.cos(5.57723756330 + 206.1855484372 * t);
-        Z3 += 0.00003965402;
-        Z3 += 0.00002508242 * Math.cos(4.64959056313 + 220.4126424388 * t);
-        Z3 += 0.00000314334 * Math.cos(3.65978364894 + 433.7117378768 * t);
-        Z3 += 0.00000276132 * Math.cos(4.53051550901 + 227.5261894396 * t);
-        Z3 += 0.00000322702 * Math.cos(4.70757024216 + 419.4846438752 * t);
-        Z3 += 0.00000327628 * Math.cos(3.31597275465 + 426.598190876 * t);
-        Z3 += 0.00000243745 * Math.cos(5.87706678179 + 7.1135470008 * t);
-        Z3 += 0.00000174957 * Math.cos(5.78592635050 + 199.0720014364 * t);
-        Z3 += 0.00000083895 * Math.cos(5.79905591107 + 14.2270940016 * t);
-        Z3 += 0.00000093820 * Math.cos(2.49637955720 + 639.897286314 * t);
-        Z3 += 0.00000044020 * Math.cos(6.21480013484 + 210.1177017003 * t);
-        Z3 += 0.00000036917 * Math.cos(3.20726820162 + 316.3918696566 * t);
-        Z3 += 0.00000037045 * Math.cos(2.74532673184 + 647.0108333148 * t);
-        Z3 += 0.00000029901 * Math.cos(3.63700944423 + 440.8252848776 * t);
-        Z3 += 0.00000027316 * Math.cos(4.02192055477 + 216.4804891757 * t);
-        Z3 += 0.00000021812 * Math.cos(0.29602454753 + 103.0927742186 * t);
-        Z3 += 0.00000015029 * Math.cos(1.61287308719 + 853.196381752 * t);
-        Z3 += 0.00000013278 * Math.cos(5.83332386279 + 117.3198682202 * t);
-        Z3 += 0.00000014206 * Math.cos(4.66959349596 + 412.3710968744 * t);
-        Z3 += 0.00000012017 * Math.cos(5.87019158782 + 217.2312487011 * t);
-        Z3 += 0.00000012913 * Math.cos(4.42190026971 + 632.7837393132 * t);
-        Z3 += 0.00000012456 * Math.cos(4.39130353720 + 234.6397364404 * t);
-        Z3 += 0.00000012442 * Math.cos(0.62890480503 + 110.2063212194 * t);
-        Z3 += 0.00000005815 * Math.cos(5.62033243896 + 21.3406410024 * t);
-        Z3 += 0.00000005017 * Math.cos(5.53227381289 + 309.2783226558 * t);
-        Z3 += 0.00000004570 * Math.cos(4.93624436902 + 323.5054166574 * t);
-        Z3 += 0.00000004550 * Math.cos(5.34216832770 + 202.2533951741 * t);
-        Z3 += 0.00000004167 * Math.cos(3.89464734960 + 223.5940361765 * t);
-        Z3 += 0.00000003453 * Math.cos(6.08609637145 + 191.9584544356 * t);
-        Z3 += 0.00000004233 * Math.cos(5.05443804202 + 95.9792272178 * t);
-        Z3 += 0.00000003981 * Math.cos(1.84663176062 + 860.3099287528 * t);
-        Z3 += 0.00000002864 * Math.cos(4.29206444885 + 124.433415221 * t);
-        Z3 += 0.00000002996 * Math.cos(3.08351604262 + 429.7795846137 * t);
-        Z3 += 0.00000002719 * Math.cos(4.65594179175 + 209.3669421749 * t);
-        Z3 += 0.00000003210 * Math.cos(2.76409200956 + 654.1243803156 * t);
-        Z3 += 0.00000002781 * Math.cos(4.63436661235 + 330.6189636582 * t);
-        Z3 += 0.00000002337 * Math.cos(4.61669572366 + 88.865680217 * t);
-        Z3 += 0.00000002134 * Math.cos(1.37581224457 + 1066.49547719 * t);
-        Z3 += 0.00000002287 * Math.cos(0.70623098744 + 203.0041546995 * t);
-        Z3 += 0.00000001693 * Math.cos(4.70902661652 + 224.3447957019 * t);
-        Z3 += 0.00000001460 * Math.cos(5.32768614058 + 302.164775655 * t);
-        Z3 += 0.00000001460 * Math.cos(3.94562330747 + 447.9388318784 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 19 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000574306 * Math.cos(0.96387396086 + 206.1855484372 * t);
-        Z4 += 0.00000252516 * Math.cos(2.90188946355 + 220.4126424388 * t);
-        Z4 += 0.00000244875 * Math.cos(2.96492296609 + 213.299095438 * t);
-        Z4 += 0.00000054532 * Math.cos(2.81565014397 + 227.5261894396 * t);
-        Z4 += 0.00000038219 * Math.cos(1.18981630114 + 199.0720014364 * t);
-        Z4 += 0.00000040987 * Math.cos(1.88329932395 + 433.7117378768 * t);
-        Z4 -= 0.00000036668;
-        Z4 += 0.00000029532 * Math.cos(0.21869783244 + 419.4846438752 * t);
-        Z4 += 0.00000015829 * Math.cos(4.08518202922 + 7.1135470008 * t);
-        Z4 += 0.00000013086 * Math.cos(4.09506233764 + 14.2270940016 * t);
-        Z4 += 0.00000016648 * Math.cos(1.68086126796 + 426.598190876 * t);
-        Z4 += 0.00000006459 * Math.cos(0.62293627131 + 639.897286314 * t);
-        Z4 += 0.00000006486 * Math.cos(1.89121948225 + 440.8252848776 * t);
-        Z4 += 0.00000006027 * Math.cos(0.93640230433 + 647.0108333148 * t);
-        Z4 += 0.00000003053 * Math.cos(2.66311279154 + 234.6397364404 * t);
-        Z4 += 0.00000001780 * Math.cos(4.77855998924 + 117.3198682202 * t);
-        Z4 += 0.00000002105 * Math.cos(0.46469400267 + 853.196381752 * t);
-        Z4 += 0.00000001586 * Math.cos(5.79955908864 + 110.2063212194 * t);
-        Z4 += 0.00000001592 * Math.cos(0.49445731602 + 412.3710968744 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 6 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000053400 * Math.cos(2.61403861391 + 206.1855484372 * t);
-        Z5 += 0.00000018015 * Math.cos(1.15819542312 + 220.4126424388 * t);
-        Z5 -= 0.00000010802;
-        Z5 += 0.00000007783 * Math.cos(1.07953666846 + 227.5261894396 * t);
-        Z5 += 0.00000006016 * Math.cos(2.88267666200 + 199.0720014364 * t);
-        Z5 += 0.00000004424 * Math.cos(0.11691197681 + 433.7117378768 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
@@ -1,5439 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   URANUS - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX J2000
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 4000 BC < Date < 8000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class A_Uranus {
-
-    static double X0(double t) // 1464 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 19.17370730359 * Math.cos(5.48133416489 + 74.7815985673 * t);
-        X0 += 1.32272523872;
-        X0 += 0.44402496796 * Math.cos(1.65967519586 + 149.5631971346 * t);
-        X0 += 0.14668209481 * Math.cos(3.42395862804 + 73.297125859 * t);
-        X0 += 0.14130269479 * Math.cos(4.39572927934 + 76.2660712756 * t);
-        X0 += 0.06201106178 * Math.cos(5.14043574125 + 1.4844727083 * t);
-        X0 += 0.01542951343 * Math.cos(4.12121838072 + 224.3447957019 * t);
-        X0 += 0.01444216660 * Math.cos(2.65117115201 + 148.0787244263 * t);
-        X0 += 0.00944995563 * Math.cos(1.65869338757 + 11.0457002639 * t);
-        X0 += 0.00657524815 * Math.cos(0.57595170636 + 151.0476698429 * t);
-        X0 += 0.00621624676 * Math.cos(3.05882246638 + 77.7505439839 * t);
-        X0 += 0.00585182542 * Math.cos(4.79934779678 + 71.8126531507 * t);
-        X0 += 0.00634000270 * Math.cos(4.09556589724 + 63.7358983034 * t);
-        X0 += 0.00547699056 * Math.cos(3.63127725056 + 85.8272988312 * t);
-        X0 += 0.00458219984 * Math.cos(3.90788284112 + 2.9689454166 * t);
-        X0 += 0.00496087649 * Math.cos(0.59947400861 + 529.6909650946 * t);
-        X0 += 0.00383625535 * Math.cos(6.18762010576 + 138.5174968707 * t);
-        X0 += 0.00267938156 * Math.cos(0.96885660137 + 213.299095438 * t);
-        X0 += 0.00215368005 * Math.cos(5.30877641428 + 38.1330356378 * t);
-        X0 += 0.00145505389 * Math.cos(2.31759757085 + 70.8494453042 * t);
-        X0 += 0.00135340032 * Math.cos(5.51062460816 + 78.7137518304 * t);
-        X0 += 0.00119593859 * Math.cos(4.10138544267 + 39.6175083461 * t);
-        X0 += 0.00125105686 * Math.cos(2.51455273063 + 111.4301614968 * t);
-        X0 += 0.00111260244 * Math.cos(5.12252784325 + 222.8603229936 * t);
-        X0 += 0.00104619827 * Math.cos(3.90538916334 + 146.594251718 * t);
-        X0 += 0.00110125387 * Math.cos(4.45473528724 + 35.1640902212 * t);
-        X0 += 0.00063584588 * Math.cos(0.29966233158 + 299.1263942692 * t);
-        X0 += 0.00053904041 * Math.cos(3.92590422507 + 3.9321532631 * t);
-        X0 += 0.00065066905 * Math.cos(3.73008452906 + 109.9456887885 * t);
-        X0 += 0.00039181662 * Math.cos(2.68841280769 + 4.4534181249 * t);
-        X0 += 0.00034341683 * Math.cos(3.03781661928 + 225.8292684102 * t);
-        X0 += 0.00033134636 * Math.cos(2.54201591218 + 65.2203710117 * t);
-        X0 += 0.00034555652 * Math.cos(1.84699329257 + 79.2350166922 * t);
-        X0 += 0.00033867050 * Math.cos(5.98418436103 + 70.3281804424 * t);
-        X0 += 0.00028371614 * Math.cos(2.58026657123 + 127.4717966068 * t);
-        X0 += 0.00035943348 * Math.cos(4.08754543016 + 202.2533951741 * t);
-        X0 += 0.00025208833 * Math.cos(5.30272144657 + 9.5612275556 * t);
-        X0 += 0.00023467802 * Math.cos(4.09729860322 + 145.6310438715 * t);
-        X0 += 0.00022963939 * Math.cos(5.51475073655 + 84.3428261229 * t);
-        X0 += 0.00031823951 * Math.cos(5.53948583244 + 152.5321425512 * t);
-        X0 += 0.00028384953 * Math.cos(6.01785430306 + 184.7272873558 * t);
-        X0 += 0.00026657176 * Math.cos(6.11027939727 + 160.6088973985 * t);
-        X0 += 0.00019676762 * Math.cos(5.53431398332 + 74.6697239827 * t);
-        X0 += 0.00019653873 * Math.cos(2.28660913421 + 74.8934731519 * t);
-        X0 += 0.00019954280 * Math.cos(0.57450958037 + 12.5301729722 * t);
-        X0 += 0.00018565067 * Math.cos(0.62225019017 + 52.6901980395 * t);
-        X0 += 0.00020084756 * Math.cos(4.47297488471 + 22.0914005278 * t);
-        X0 += 0.00019926329 * Math.cos(1.39878194708 + 112.9146342051 * t);
-        X0 += 0.00018575632 * Math.cos(5.70217475790 + 33.6796175129 * t);
-        X0 += 0.00016587870 * Math.cos(4.86920309163 + 108.4612160802 * t);
-        X0 += 0.00015171194 * Math.cos(2.88415453399 + 41.1019810544 * t);
-        X0 += 0.00011245800 * Math.cos(6.11597016146 + 71.6002048296 * t);
-        X0 += 0.00013948521 * Math.cos(6.27545694160 + 221.3758502853 * t);
-        X0 += 0.00010798350 * Math.cos(1.70031857078 + 77.962992305 * t);
-        X0 += 0.00013593955 * Math.cos(2.55407820633 + 87.3117715395 * t);
-        X0 += 0.00011997848 * Math.cos(0.94875212305 + 1059.3819301892 * t);
-        X0 += 0.00012884351 * Math.cos(5.08737999470 + 145.1097790097 * t);
-        X0 += 0.00012394786 * Math.cos(6.21892878850 + 72.3339180125 * t);
-        X0 += 0.00012253318 * Math.cos(0.19452856525 + 36.6485629295 * t);
-        X0 += 0.00011538642 * Math.cos(1.77241794539 + 77.2292791221 * t);
-        X0 += 0.00008738409 * Math.cos(4.96956808452 + 186.2117600641 * t);
-        X0 += 0.00007095608 * Math.cos(1.30384750044 + 297.6419215609 * t);
-        X0 += 0.00006262602 * Math.cos(1.71385983783 + 153.4953503977 * t);
-        X0 += 0.00007487302 * Math.cos(0.11408470667 + 426.598190876 * t);
-        X0 += 0.00007798974 * Math.cos(5.82410372587 + 340.7708920448 * t);
-        X0 += 0.00006669249 * Math.cos(5.08626589612 + 62.2514255951 * t);
-        X0 += 0.00005505358 * Math.cos(3.31282108025 + 140.001969579 * t);
-        X0 += 0.00005372927 * Math.cos(4.12498282863 + 75.3028634291 * t);
-        X0 += 0.00005354242 * Math.cos(3.69263973447 + 74.2603337055 * t);
-        X0 += 0.00004478123 * Math.cos(1.11838191479 + 66.70484372 * t);
-        X0 += 0.00004233075 * Math.cos(3.94913608184 + 265.9892934775 * t);
-        X0 += 0.00005038353 * Math.cos(4.68664376918 + 18.1592472647 * t);
-        X0 += 0.00004570470 * Math.cos(0.97536665751 + 183.2428146475 * t);
-        X0 += 0.00004751325 * Math.cos(4.95762395337 + 73.8183907208 * t);
-        X0 += 0.00004448651 * Math.cos(0.29436142982 + 114.3991069134 * t);
-        X0 += 0.00003312340 * Math.cos(0.52418923788 + 82.8583534146 * t);
-        X0 += 0.00004515952 * Math.cos(2.88576303120 + 75.7448064138 * t);
-        X0 += 0.00003559276 * Math.cos(1.47627607503 + 5.9378908332 * t);
-        X0 += 0.00003268117 * Math.cos(0.51827231333 + 220.4126424388 * t);
-        X0 += 0.00003578235 * Math.cos(1.11528903208 + 137.0330241624 * t);
-        X0 += 0.00003004737 * Math.cos(5.12122132051 + 7.1135470008 * t);
-        X0 += 0.00002882392 * Math.cos(2.76136583899 + 373.9079928365 * t);
-        X0 += 0.00002579454 * Math.cos(3.84784330333 + 277.0349937414 * t);
-        X0 += 0.00002597765 * Math.cos(0.22409539936 + 96.8729990951 * t);
-        X0 += 0.00002560744 * Math.cos(4.44236223450 + 80.1982245387 * t);
-        X0 += 0.00002722745 * Math.cos(6.09456175016 + 106.9767433719 * t);
-        X0 += 0.00002528025 * Math.cos(0.89508396542 + 68.8437077341 * t);
-        X0 += 0.00002631138 * Math.cos(0.04831552531 + 305.3461693927 * t);
-        X0 += 0.00002541716 * Math.cos(0.64495056482 + 32.1951448046 * t);
-        X0 += 0.00002241129 * Math.cos(5.22377697501 + 3.1813937377 * t);
-        X0 += 0.00001965145 * Math.cos(0.09207526632 + 20.6069278195 * t);
-        X0 += 0.00002232022 * Math.cos(0.63571664756 + 80.7194894005 * t);
-        X0 += 0.00001933814 * Math.cos(5.75490033864 + 74.7334144575 * t);
-        X0 += 0.00001933817 * Math.cos(2.06557585395 + 74.8297826771 * t);
-        X0 += 0.00002138391 * Math.cos(4.20897429922 + 74.5209661364 * t);
-        X0 += 0.00002126427 * Math.cos(3.61171465436 + 75.0422309982 * t);
-        X0 += 0.00002215516 * Math.cos(2.18613112875 + 259.5088859231 * t);
-        X0 += 0.00001891213 * Math.cos(5.49941424248 + 300.6108669775 * t);
-        X0 += 0.00001927679 * Math.cos(1.29228021932 + 159.1244246902 * t);
-        X0 += 0.00001796558 * Math.cos(5.73271543335 + 74.6215398729 * t);
-        X0 += 0.00001792522 * Math.cos(2.08789166984 + 74.9416572617 * t);
-        X0 += 0.00001873542 * Math.cos(4.23391867169 + 206.1855484372 * t);
-        X0 += 0.00002182901 * Math.cos(1.23755478345 + 479.2883889155 * t);
-        X0 += 0.00001860591 * Math.cos(1.67536711716 + 42.5864537627 * t);
-        X0 += 0.00002075591 * Math.cos(3.15586933464 + 131.4039498699 * t);
-        X0 += 0.00001912582 * Math.cos(5.83091918696 + 14.977853527 * t);
-        X0 += 0.00001529180 * Math.cos(2.05204104820 + 191.2076949102 * t);
-        X0 += 0.00002064173 * Math.cos(3.60208606410 + 835.0371344873 * t);
-        X0 += 0.00001768763 * Math.cos(1.19254481620 + 219.891377577 * t);
-        X0 += 0.00001892359 * Math.cos(4.32128621847 + 154.0166152595 * t);
-        X0 += 0.00001797047 * Math.cos(1.73417465594 + 227.3137411185 * t);
-        X0 += 0.00001558489 * Math.cos(6.16891070489 + 59.8037450403 * t);
-        X0 += 0.00001672893 * Math.cos(0.01232646186 + 143.6253063014 * t);
-        X0 += 0.00001467268 * Math.cos(2.10975578758 + 2.4476805548 * t);
-        X0 += 0.00001677659 * Math.cos(0.42525121334 + 8.0767548473 * t);
-        X0 += 0.00001347303 * Math.cos(5.46763140224 + 288.0806940053 * t);
-        X0 += 0.00001744555 * Math.cos(0.82022450313 + 56.6223513026 * t);
-        X0 += 0.00001427180 * Math.cos(0.38786175669 + 92.940845832 * t);
-        X0 += 0.00001263032 * Math.cos(5.63689596853 + 404.5067903482 * t);
-        X0 += 0.00001221506 * Math.cos(5.20012455894 + 54.1746707478 * t);
-        X0 += 0.00001574905 * Math.cos(5.72297800263 + 39.3568759152 * t);
-        X0 += 0.00001269686 * Math.cos(2.66330104031 + 142.4496501338 * t);
-        X0 += 0.00001438869 * Math.cos(0.72633739717 + 522.5774180938 * t);
-        X0 += 0.00001408997 * Math.cos(3.61751904356 + 536.8045120954 * t);
-        X0 += 0.00001418300 * Math.cos(2.29718712012 + 235.3904959658 * t);
-        X0 += 0.00001040948 * Math.cos(2.74644165501 + 5.4166259714 * t);
-        X0 += 0.00001256867 * Math.cos(5.61684736425 + 67.6680515665 * t);
-        X0 += 0.00001164218 * Math.cos(2.08302637541 + 81.8951455681 * t);
-        X0 += 0.00001009252 * Math.cos(2.02320517037 + 74.0308390419 * t);
-        X0 += 0.00001077810 * Math.cos(1.05685900920 + 128.9562693151 * t);
-        X0 += 0.00000995392 * Math.cos(5.79703441041 + 75.5323580927 * t);
-        X0 += 0.00001212025 * Math.cos(3.41577832660 + 211.8146227297 * t);
-        X0 += 0.00001223648 * Math.cos(3.84373514640 + 187.6962327724 * t);
-        X0 += 0.00001334371 * Math.cos(2.17621743689 + 380.12776796 * t);
-        X0 += 0.00001144565 * Math.cos(2.42148845239 + 296.1574488526 * t);
-        X0 += 0.00001241589 * Math.cos(1.81282962357 + 134.5853436076 * t);
-        X0 += 0.00001192274 * Math.cos(5.58661990233 + 50.4025761791 * t);
-        X0 += 0.00001093678 * Math.cos(3.94451812233 + 230.5645708254 * t);
-        X0 += 0.00000866728 * Math.cos(3.65638980673 + 125.9873238985 * t);
-        X0 += 0.00000858603 * Math.cos(6.06095240605 + 68.1893164283 * t);
-        X0 += 0.00000913477 * Math.cos(1.69392733805 + 149.45132255 * t);
-        X0 += 0.00001077916 * Math.cos(5.01417740021 + 181.7583419392 * t);
-        X0 += 0.00001166898 * Math.cos(2.02955848543 + 110.2063212194 * t);
-        X0 += 0.00000858335 * Math.cos(1.50454807667 + 89.7594520943 * t);
-        X0 += 0.00001056848 * Math.cos(5.53440854164 + 14.0146456805 * t);
-        X0 += 0.00000964091 * Math.cos(2.66151436132 + 35.4247226521 * t);
-        X0 += 0.00000909790 * Math.cos(4.72919543782 + 149.6750717192 * t);
-        X0 += 0.00000987956 * Math.cos(6.20259453944 + 203.7378678824 * t);
-        X0 += 0.00000704557 * Math.cos(1.78667248384 + 81.3738807063 * t);
-        X0 += 0.00000727979 * Math.cos(1.68450966248 + 51.2057253312 * t);
-        X0 += 0.00000895034 * Math.cos(3.38678219821 + 23.5758732361 * t);
-        X0 += 0.00000862050 * Math.cos(5.03077008764 + 162.0933701068 * t);
-        X0 += 0.00000870204 * Math.cos(5.37263296164 + 81.0013736908 * t);
-        X0 += 0.00000811437 * Math.cos(5.17638099206 + 200.7689224658 * t);
-        X0 += 0.00000598538 * Math.cos(5.04735819055 + 24.3790223882 * t);
-        X0 += 0.00000766812 * Math.cos(2.46431370490 + 68.5618234438 * t);
-        X0 += 0.00000620509 * Math.cos(3.32340073105 + 69.3649725959 * t);
-        X0 += 0.00000743561 * Math.cos(1.22664998599 + 760.25553592 * t);
-        X0 += 0.00000643798 * Math.cos(1.27173146057 + 88.7962442478 * t);
-        X0 += 0.00000696351 * Math.cos(0.45928521046 + 116.4260963429 * t);
-        X0 += 0.00000528197 * Math.cos(2.28043920518 + 146.3818033969 * t);
-        X0 += 0.00000699542 * Math.cos(2.93566905569 + 617.8058857862 * t);
-        X0 += 0.00000674539 * Math.cos(3.06005508910 + 6.2197751235 * t);
-        X0 += 0.00000587451 * Math.cos(3.90803174254 + 152.0108776894 * t);
-        X0 += 0.00000578643 * Math.cos(2.55597699269 + 28.5718080822 * t);
-        X0 += 0.00000504865 * Math.cos(2.53585718344 + 157.6399519819 * t);
-        X0 += 0.00000551887 * Math.cos(1.14420383033 + 260.9933586314 * t);
-        X0 += 0.00000476325 * Math.cos(4.08179949822 + 415.5524906121 * t);
-        X0 += 0.00000580796 * Math.cos(6.18692743051 + 258.0244132148 * t);
-        X0 += 0.00000597694 * Math.cos(5.21701637296 + 218.4069048687 * t);
-        X0 += 0.00000524337 * Math.cos(2.29605835514 + 351.8165923087 * t);
-        X0 += 0.00000445140 * Math.cos(5.84184650462 + 120.358249606 * t);
-        X0 += 0.00000442835 * Math.cos(3.75400855881 + 329.7251917809 * t);
-        X0 += 0.00000449040 * Math.cos(1.03508146650 + 543.0242872189 * t);
-        X0 += 0.00000484827 * Math.cos(0.33092998607 + 73.4090004436 * t);
-        X0 += 0.00000438492 * Math.cos(1.29953105341 + 1589.0728952838 * t);
-        X0 += 0.00000444042 * Math.cos(4.74854436122 + 41.6444977756 * t);
-        X0 += 0.00000542001 * Math.cos(1.04883718038 + 195.1398481733 * t);
-        X0 += 0.00000435208 * Math.cos(3.76518154062 + 372.4235201282 * t);
-        X0 += 0.00000419163 * Math.cos(1.97405677459 + 95.3885263868 * t);
-        X0 += 0.00000514155 * Math.cos(5.40820017990 + 115.8835796217 * t);
-        X0 += 0.00000387375 * Math.cos(5.96869839758 + 152.7445908723 * t);
-        X0 += 0.00000408499 * Math.cos(3.42756156092 + 0.9632078465 * t);
-        X0 += 0.00000374730 * Math.cos(5.67831880744 + 144.1465711632 * t);
-        X0 += 0.00000433546 * Math.cos(4.11248357579 + 209.3669421749 * t);
-        X0 += 0.00000384413 * Math.cos(5.21546597177 + 114.1384744825 * t);
-        X0 += 0.00000427408 * Math.cos(2.47035624732 + 141.4864422873 * t);
-        X0 += 0.00000371413 * Math.cos(3.47157274946 + 73.1852512744 * t);
-        X0 += 0.00000371243 * Math.cos(1.03748816404 + 105.4922706636 * t);
-        X0 += 0.00000318357 * Math.cos(0.22505788913 + 33.1371007917 * t);
-        X0 += 0.00000326002 * Math.cos(4.18918332052 + 228.276948965 * t);
-        X0 += 0.00000416253 * Math.cos(4.17578438146 + 490.3340891794 * t);
-        X0 += 0.00000327618 * Math.cos(0.75068049756 + 46.2097904851 * t);
-        X0 += 0.00000351601 * Math.cos(6.23854037301 + 214.7835681463 * t);
-        X0 += 0.00000404322 * Math.cos(2.13001764328 + 99.1606209555 * t);
-        X0 += 0.00000295859 * Math.cos(2.62881674222 + 103.0927742186 * t);
-        X0 += 0.00000326652 * Math.cos(0.26933343606 + 7.4223635415 * t);
-        X0 += 0.00000314386 * Math.cos(3.82461196975 + 45.5766510387 * t);
-        X0 += 0.00000323118 * Math.cos(1.86185830328 + 30.7106720963 * t);
-        X0 += 0.00000300220 * Math.cos(2.12651918134 + 6.592282139 * t);
-        X0 += 0.00000312412 * Math.cos(3.02884222738 + 419.4846438752 * t);
-        X0 += 0.00000311772 * Math.cos(2.38235128420 + 147.1155165798 * t);
-        X0 += 0.00000368105 * Math.cos(5.45799824106 + 255.0554677982 * t);
-        X0 += 0.00000346148 * Math.cos(4.51747810137 + 454.9093665273 * t);
-        X0 += 0.00000321808 * Math.cos(0.08789094066 + 180.2738692309 * t);
-        X0 += 0.00000337319 * Math.cos(5.17833136955 + 150.5264049811 * t);
-        X0 += 0.00000308588 * Math.cos(5.63599850744 + 639.897286314 * t);
-        X0 += 0.00000251931 * Math.cos(1.50053452494 + 19.1224551112 * t);
-        X0 += 0.00000252403 * Math.cos(0.29915395892 + 150.0844619964 * t);
-        X0 += 0.00000278704 * Math.cos(1.17271973925 + 29.2049475286 * t);
-        X0 += 0.00000266863 * Math.cos(5.73005045142 + 28.3111756513 * t);
-        X0 += 0.00000238805 * Math.cos(5.52577063741 + 554.0699874828 * t);
-        X0 += 0.00000305829 * Math.cos(1.75242813997 + 6283.0758499914 * t);
-        X0 += 0.00000299247 * Math.cos(1.99799825842 + 984.6003316219 * t);
-        X0 += 0.00000226271 * Math.cos(5.35719329331 + 120.9913890524 * t);
-        X0 += 0.00000215050 * Math.cos(2.10000017027 + 67.3592350258 * t);
-        X0 += 0.00000198057 * Math.cos(4.76361127500 + 69.6737891366 * t);
-        X0 += 0.00000220399 * Math.cos(0.46944876871 + 44.070926471 * t);
-        X0 += 0.00000219523 * Math.cos(5.01086928137 + 47.6942631934 * t);
-        X0 += 0.00000213140 * Math.cos(4.90437681706 + 0.5212648618 * t);
-        X0 += 0.00000258423 * Math.cos(5.01692232937 + 1289.9465010146 * t);
-        X0 += 0.00000185610 * Math.cos(4.14658641505 + 55.6591434561 * t);
-        X0 += 0.00000216839 * Math.cos(2.64528788158 + 316.3918696566 * t);
-        X0 += 0.00000241311 * Math.cos(4.64092150995 + 756.3233826569 * t);
-        X0 += 0.00000222625 * Math.cos(1.63499247598 + 155.7829722581 * t);
-        X0 += 0.00000204428 * Math.cos(1.23043556439 + 142.1408335931 * t);
-        X0 += 0.00000231243 * Math.cos(4.34962187207 + 46.470422916 * t);
-        X0 += 0.00000231117 * Math.cos(0.59598761086 + 339.2864193365 * t);
-        X0 += 0.00000214402 * Math.cos(2.75106858640 + 189.1807054807 * t);
-        X0 += 0.00000240160 * Math.cos(1.57472247802 + 342.2553647531 * t);
-        X0 += 0.00000173507 * Math.cos(3.07143937754 + 79.889407998 * t);
-        X0 += 0.00000175735 * Math.cos(3.10617729573 + 57.255490749 * t);
-        X0 += 0.00000166885 * Math.cos(0.92704904427 + 30.0562807905 * t);
-        X0 += 0.00000173052 * Math.cos(2.71901382868 + 681.5417840896 * t);
-        X0 += 0.00000212210 * Math.cos(2.48249922098 + 135.5485514541 * t);
-        X0 += 0.00000164032 * Math.cos(5.42438913166 + 468.2426886516 * t);
-        X0 += 0.00000203487 * Math.cos(1.11695843604 + 148.5999892881 * t);
-        X0 += 0.00000156930 * Math.cos(4.49200656712 + 92.3077063856 * t);
-        X0 += 0.00000165255 * Math.cos(0.65702015844 + 154.979823106 * t);
-        X0 += 0.00000185802 * Math.cos(5.56639953504 + 73.88782669 * t);
-        X0 += 0.00000185802 * Math.cos(2.25459555455 + 75.6753704446 * t);
-        X0 += 0.00000174776 * Math.cos(0.64896858671 + 103.3534066495 * t);
-        X0 += 0.00000187624 * Math.cos(6.19491337250 + 149.0419322728 * t);
-        X0 += 0.00000193532 * Math.cos(6.21234933839 + 60.7669528868 * t);
-        X0 += 0.00000160061 * Math.cos(5.01823584858 + 264.5048207692 * t);
-        X0 += 0.00000185820 * Math.cos(1.04769695695 + 76.154196691 * t);
-        X0 += 0.00000197311 * Math.cos(1.21765365835 + 256.5399405065 * t);
-        X0 += 0.00000175478 * Math.cos(2.83270040396 + 333.657345044 * t);
-        X0 += 0.00000157905 * Math.cos(5.70734466920 + 82.2039621088 * t);
-        X0 += 0.00000182625 * Math.cos(0.27259358854 + 216.9224321604 * t);
-        X0 += 0.00000147918 * Math.cos(1.82282570469 + 17.5261078183 * t);
-        X0 += 0.00000177450 * Math.cos(5.10372503690 + 685.4739373527 * t);
-        X0 += 0.00000137789 * Math.cos(5.22295277421 + 448.6895914038 * t);
-        X0 += 0.00000189430 * Math.cos(5.63043055528 + 291.7040307277 * t);
-        X0 += 0.00000152602 * Math.cos(3.60417761486 + 233.9060232575 * t);
-        X0 += 0.00000141512 * Math.cos(6.28314137970 + 130.4407420234 * t);
-        X0 += 0.00000134010 * Math.cos(3.97075396565 + 156.1554792736 * t);
-        X0 += 0.00000136823 * Math.cos(2.06403429379 + 16.6747745564 * t);
-        X0 += 0.00000129045 * Math.cos(6.13432221167 + 76.4785195967 * t);
-        X0 += 0.00000146031 * Math.cos(6.21320130613 + 294.6729761443 * t);
-        X0 += 0.00000146362 * Math.cos(4.63496106478 + 334.2904844904 * t);
-        X0 += 0.00000177477 * Math.cos(3.17856650199 + 10213.285546211 * t);
-        X0 += 0.00000153385 * Math.cos(5.73024384991 + 347.8844390456 * t);
-        X0 += 0.00000127869 * Math.cos(1.20450690573 + 61.448276443 * t);
-        X0 += 0.00000150311 * Math.cos(6.16854891408 + 173.9422195228 * t);
-        X0 += 0.00000138900 * Math.cos(6.09258539376 + 286.596221297 * t);
-        X0 += 0.00000141169 * Math.cos(3.15247546979 + 24.1183899573 * t);
-        X0 += 0.00000115436 * Math.cos(3.64215841031 + 13.3333221243 * t);
-        X0 += 0.00000111293 * Math.cos(0.10667309735 + 88.1149206916 * t);
-        X0 += 0.00000121087 * Math.cos(0.17422963984 + 79.4474650133 * t);
-        X0 += 0.00000108657 * Math.cos(0.23419995878 + 66.9172920411 * t);
-        X0 += 0.00000109513 * Math.cos(1.37565056754 + 44.7253177768 * t);
-        X0 += 0.00000128511 * Math.cos(1.87873176315 + 254.9435932136 * t);
-        X0 += 0.00000115349 * Math.cos(0.88899033684 + 692.5874843535 * t);
-        X0 += 0.00000135117 * Math.cos(2.72548252468 + 171.6545976624 * t);
-        X0 += 0.00000125714 * Math.cos(5.43040501453 + 98.3574718034 * t);
-        X0 += 0.00000104433 * Math.cos(1.66540127359 + 54.3347294422 * t);
-        X0 += 0.00000128791 * Math.cos(3.10899630296 + 155.5010879678 * t);
-        X0 += 0.00000105829 * Math.cos(1.67999980378 + 375.3924655448 * t);
-        X0 += 0.00000109272 * Math.cos(3.18774824824 + 273.1028404783 * t);
-        X0 += 0.00000100410 * Math.cos(1.92606761482 + 362.8622925726 * t);
-        X0 += 0.00000127008 * Math.cos(5.83706831293 + 628.8515860501 * t);
-        X0 += 0.00000102158 * Math.cos(1.42491352478 + 0.1118745846 * t);
-        X0 += 0.00000115884 * Math.cos(5.55755283511 + 632.7837393132 * t);
-        X0 += 0.00000095969 * Math.cos(0.95437290534 + 258.8757464767 * t);
-        X0 += 0.00000106157 * Math.cos(4.21108144267 + 302.0953396858 * t);
-        X0 += 0.00000115494 * Math.cos(2.79386838622 + 604.4725636619 * t);
-        X0 += 0.00000097686 * Math.cos(3.08538131581 + 76.7873361374 * t);
-        X0 += 0.00000092952 * Math.cos(3.37459370406 + 93.9040536785 * t);
-        X0 += 0.00000093122 * Math.cos(3.05386776621 + 43.2890291783 * t);
-        X0 += 0.00000099120 * Math.cos(0.38719985960 + 149.3025647037 * t);
-        X0 += 0.00000089934 * Math.cos(4.52722147760 + 149.6113812444 * t);
-        X0 += 0.00000094924 * Math.cos(1.22382250585 + 267.4737661858 * t);
-        X0 += 0.00000089643 * Math.cos(4.70046777417 + 217.2312487011 * t);
-        X0 += 0.00000109946 * Math.cos(1.23547347355 + 100.3844612329 * t);
-        X0 += 0.00000111791 * Math.cos(3.59906622192 + 19.643719973 * t);
-        X0 += 0.00000088765 * Math.cos(4.68268569184 + 27.0873353739 * t);
-        X0 += 0.00000089563 * Math.cos(2.61565675484 + 295.1942410061 * t);
-        X0 += 0.00000089934 * Math.cos(1.93336144673 + 149.5150130248 * t);
-        X0 += 0.00000104717 * Math.cos(0.00910187496 + 433.7117378768 * t);
-        X0 += 0.00000108044 * Math.cos(0.47218816752 + 253.5709950899 * t);
-        X0 += 0.00000097420 * Math.cos(6.17817068899 + 1052.2683831884 * t);
-        X0 += 0.00000087921 * Math.cos(5.89750281232 + 74.1484591209 * t);
-        X0 += 0.00000087921 * Math.cos(1.92349227727 + 75.4147380137 * t);
-        X0 += 0.00000086241 * Math.cos(6.10142938790 + 76.42612997 * t);
-        X0 += 0.00000115664 * Math.cos(2.63306868216 + 1215.1649024473 * t);
-        X0 += 0.00000112324 * Math.cos(0.51418380423 + 228.7982138268 * t);
-        X0 += 0.00000106858 * Math.cos(3.13973175313 + 81.682697247 * t);
-        X0 += 0.00000083195 * Math.cos(3.64480716244 + 5.1078094307 * t);
-        X0 += 0.00000082020 * Math.cos(1.12030294482 + 82.6459050935 * t);
-        X0 += 0.00000083480 * Math.cos(4.54952756372 + 149.723255829 * t);
-        X0 += 0.00000096333 * Math.cos(2.43138031905 + 98.8999885246 * t);
-        X0 += 0.00000108382 * Math.cos(0.01637987560 + 1162.4747044078 * t);
-        X0 += 0.00000080076 * Math.cos(2.03790828937 + 73.1370671646 * t);
-        X0 += 0.00000099120 * Math.cos(6.07338306473 + 149.8238295655 * t);
-        X0 += 0.00000088716 * Math.cos(4.77601772186 + 275.5505210331 * t);
-        X0 += 0.00000076677 * Math.cos(1.12697999111 + 73.5577582899 * t);
-        X0 += 0.00000076021 * Math.cos(1.38978865049 + 218.9281697305 * t);
-        X0 += 0.00000083480 * Math.cos(1.91105536061 + 149.4031384402 * t);
-        X0 += 0.00000083936 * Math.cos(4.85628717843 + 370.9390474199 * t);
-        X0 += 0.00000078478 * Math.cos(1.13478868865 + 6.9010986797 * t);
-        X0 += 0.00000100821 * Math.cos(4.69066192585 + 210.3301500214 * t);
-        X0 += 0.00000077269 * Math.cos(1.59133790131 + 26.0235537909 * t);
-        X0 += 0.00000072762 * Math.cos(6.17791614729 + 95.2284676924 * t);
-        X0 += 0.00000099273 * Math.cos(5.79876917993 + 328.3525936572 * t);
-        X0 += 0.00000083725 * Math.cos(3.19473451570 + 175.1660598002 * t);
-        X0 += 0.00000090852 * Math.cos(6.17909689432 + 17.2654753874 * t);
-        X0 += 0.00000069179 * Math.cos(3.11951980820 + 189.7232222019 * t);
-        X0 += 0.00000087997 * Math.cos(0.07064517287 + 894.8408795276 * t);
-        X0 += 0.00000091016 * Math.cos(4.20728010672 + 82.4858463991 * t);
-        X0 += 0.00000070434 * Math.cos(5.00824373874 + 117.9105690512 * t);
-        X0 += 0.00000078847 * Math.cos(0.01322041001 + 262.4778313397 * t);
-        X0 += 0.00000070212 * Math.cos(4.41304710948 + 820.0592809603 * t);
-        X0 += 0.00000067841 * Math.cos(0.82180485113 + 606.7601855223 * t);
-        X0 += 0.00000077380 * Math.cos(4.76492032598 + 310.1720945331 * t);
-        X0 += 0.00000067827 * Math.cos(3.41010408816 + 16.04163511 * t);
-        X0 += 0.00000065829 * Math.cos(1.93018071058 + 73.9784494152 * t);
-        X0 += 0.00000065829 * Math.cos(5.89081437901 + 75.5847477194 * t);
-        X0 += 0.00000072397 * Math.cos(4.31806917473 + 61.2882177486 * t);
-        X0 += 0.00000078311 * Math.cos(5.41215578557 + 50.66320861 * t);
-        X0 += 0.00000069882 * Math.cos(3.96768603633 + 1066.49547719 * t);
-        X0 += 0.00000080708 * Math.cos(4.69137061335 + 16.4623262353 * t);
-        X0 += 0.00000066793 * Math.cos(4.81099593544 + 106.2741679563 * t);
-        X0 += 0.00000077424 * Math.cos(1.46638584169 + 70.0462961521 * t);
-        X0 += 0.00000063890 * Math.cos(0.78467782617 + 119.5069163441 * t);
-        X0 += 0.00000088791 * Math.cos(1.36813139013 + 293.188503436 * t);
-        X0 += 0.00000086043 * Math.cos(4.58346857263 + 173.6815870919 * t);
-        X0 += 0.00000079594 * Math.cos(6.19357054917 + 192.6921676185 * t);
-        X0 += 0.00000078342 * Math.cos(5.90294859657 + 58.1068240109 * t);
-        X0 += 0.00000060317 * Math.cos(5.85931117087 + 123.5396433437 * t);
-        X0 += 0.00000070498 * Math.cos(4.37183238608 + 76.3779458602 * t);
-        X0 += 0.00000078119 * Math.cos(2.28098562045 + 477.8039162072 * t);
-        X0 += 0.00000080964 * Math.cos(0.34694152649 + 331.3215390738 * t);
-        X0 += 0.00000081902 * Math.cos(3.23474305820 + 480.7728616238 * t);
-        X0 += 0.00000079911 * Math.cos(2.41727074003 + 332.8060117821 * t);
-        X0 += 0.00000075512 * Math.cos(3.63824702540 + 67.0773507355 * t);
-        X0 += 0.00000068354 * Math.cos(0.08038703786 + 79.5169009825 * t);
-        X0 += 0.00000076488 * Math.cos(0.73635514691 + 237.6781178262 * t);
-        X0 += 0.00000070060 * Math.cos(2.85493198706 + 167.7224443993 * t);
-        X0 += 0.00000077986 * Math.cos(3.27368512650 + 70.1157321213 * t);
-        X0 += 0.00000056604 * Math.cos(4.48745575937 + 949.1756089698 * t);
-        X0 += 0.00000077640 * Math.cos(3.06328765206 + 71.1582618449 * t);
-        X0 += 0.00000066500 * Math.cos(1.53365564126 + 125.1841747464 * t);
-        X0 += 0.00000075093 * Math.cos(4.73904922026 + 78.4049352897 * t);
-        X0 += 0.00000064912 * Math.cos(4.53988533411 + 472.1748419147 * t);
-        X0 += 0.00000058628 * Math.cos(0.40805425491 + 403.0223176399 * t);
-        X0 += 0.00000054636 * Math.cos(1.47333499230 + 71.8608372605 * t);
-        X0 += 0.00000053838 * Math.cos(0.93176659976 + 269.9214467406 * t);
-        X0 += 0.00000072381 * Math.cos(4.25223277801 + 15.4991183888 * t);
-        X0 += 0.00000052189 * Math.cos(3.65429708039 + 48.7580447764 * t);
-        X0 += 0.00000053865 * Math.cos(5.83782773067 + 90.8232336773 * t);
-        X0 += 0.00000072807 * Math.cos(5.95313969312 + 7.8643065262 * t);
-        X0 += 0.00000053991 * Math.cos(4.58226336725 + 148.8124376092 * t);
-        X0 += 0.00000051866 * Math.cos(0.06447470425 + 77.7023598741 * t);
-        X0 += 0.00000056128 * Math.cos(4.11138805649 + 65.3804297061 * t);
-        X0 += 0.00000049942 * Math.cos(4.89879835209 + 124.5028511902 * t);
-        X0 += 0.00000054088 * Math.cos(2.02562065658 + 13.4933808187 * t);
-        X0 += 0.00000053830 * Math.cos(2.54062357724 + 831.1049812242 * t);
-        X0 += 0.00000057136 * Math.cos(2.07135660474 + 31.6526280834 * t);
-        X0 += 0.00000048357 * Math.cos(5.44952727770 + 162.8965192589 * t);
-        X0 += 0.00000055249 * Math.cos(0.27729925019 + 74.4090915518 * t);
-        X0 += 0.00000055249 * Math.cos(1.26051053222 + 75.1541055828 * t);
-        X0 += 0.00000049301 * Math.cos(0.68505345474 + 76.0054388447 * t);
-        X0 += 0.00000057521 * Math.cos(1.59317631675 + 142.9709149956 * t);
-        X0 += 0.00000055685 * Math.cos(2.94302170889 + 43.1289704839 * t);
-        X0 += 0.00000059455 * Math.cos(0.63514957816 + 290.2195580194 * t);
-        X0 += 0.00000063900 * Math.cos(2.18112319933 + 92.0470739547 * t);
-        X0 += 0.00000055444 * Math.cos(1.36286779313 + 178.7893965226 * t);
-        X0 += 0.00000051624 * Math.cos(4.72218953206 + 184.9879197867 * t);
-        X0 += 0.00000048683 * Math.cos(2.61213928649 + 48.9181034708 * t);
-        X0 += 0.00000052985 * Math.cos(2.22171821346 + 104.0077979553 * t);
-        X0 += 0.00000059399 * Math.cos(1.13646884872 + 486.4019359163 * t);
-        X0 += 0.00000050137 * Math.cos(1.48506070888 + 25.6028626656 * t);
-        X0 += 0.00000047590 * Math.cos(4.15725769893 + 224.2329211173 * t);
-        X0 += 0.00000063430 * Math.cos(3.44179229325 + 846.0828347512 * t);
-        X0 += 0.00000047899 * Math.cos(2.26914506777 + 91.4563731237 * t);
-        X0 += 0.00000057214 * Math.cos(1.13849444877 + 303.8616966844 * t);
-        X0 += 0.00000048855 * Math.cos(2.68360202842 + 101.8689339412 * t);
-        X0 += 0.00000054468 * Math.cos(1.20360366787 + 236.8749686741 * t);
-        X0 += 0.00000054466 * Math.cos(3.74899735584 + 74.1272072615 * t);
-        X0 += 0.00000054466 * Math.cos(4.07199773375 + 75.4359898731 * t);
-        X0 += 0.00000050910 * Math.cos(0.91148399106 + 58.319272332 * t);
-        X0 += 0.00000044633 * Math.cos(5.10559995376 + 57.5161231799 * t);
-        X0 += 0.00000047699 * Math.cos(0.83638374581 + 177.8743727859 * t);
-        X0 += 0.00000048819 * Math.cos(0.49665135549 + 122.4758617607 * t);
-        X0 += 0.00000045108 * Math.cos(1.90469222942 + 31.492569389 * t);
-        X0 += 0.00000047736 * Math.cos(3.70992038267 + 84.1827674285 * t);
-        X0 += 0.00000052405 * Math.cos(1.63380029621 + 58.7399634573 * t);
-        X0 += 0.00000059366 * Math.cos(4.21455208670 + 117.36805233 * t);
-        X0 += 0.00000042464 * Math.cos(1.91841049036 + 150.31395666 * t);
-        X0 += 0.00000046177 * Math.cos(4.39915578083 + 14.2270940016 * t);
-        X0 += 0.00000056885 * Math.cos(2.10911106828 + 25.0603459444 * t);
-        X0 += 0.00000046007 * Math.cos(2.96485484521 + 49.7212526229 * t);
-        X0 += 0.00000056472 * Math.cos(1.96585169960 + 7.7042478318 * t);
-        X0 += 0.00000044203 * Math.cos(6.07483181407 + 70.5888128733 * t);
-        X0 += 0.00000047746 * Math.cos(1.96668828064 + 55.7710180407 * t);
-        X0 += 0.00000039643 * Math.cos(5.20792456163 + 69.1525242748 * t);
-        X0 += 0.00000044855 * Math.cos(1.92750497570 + 278.5194664497 * t);
-        X0 += 0.00000039626 * Math.cos(3.19265632224 + 72.4939767069 * t);
-        X0 += 0.00000039721 * Math.cos(3.77197555779 + 88.274979386 * t);
-        X0 += 0.00000042243 * Math.cos(4.84138065267 + 232.4215505492 * t);
-        X0 += 0.00000041872 * Math.cos(2.23021803037 + 306.830642101 * t);
-        X0 += 0.00000043297 * Math.cos(3.08650429793 + 284.1485407422 * t);
-        X0 += 0.00000047398 * Math.cos(0.90624036754 + 75.6329318292 * t);
-        X0 += 0.00000047398 * Math.cos(0.63156941487 + 73.9302653054 * t);
-        X0 += 0.00000052967 * Math.cos(5.96991904375 + 365.0011565867 * t);
-        X0 += 0.00000041020 * Math.cos(1.74616309945 + 78.9743842613 * t);
-        X0 += 0.00000037774 * Math.cos(2.65860578213 + 397.3932433474 * t);
-        X0 += 0.00000045419 * Math.cos(3.54780469477 + 393.4610900843 * t);
-        X0 += 0.00000042747 * Math.cos(4.43768599991 + 22.633917249 * t);
-        X0 += 0.00000050051 * Math.cos(1.56642196700 + 329.8370663655 * t);
-        X0 += 0.00000037780 * Math.cos(4.54908192680 + 77.0692204277 * t);
-        X0 += 0.00000047477 * Math.cos(0.90974768312 + 224.4566702865 * t);
-        X0 += 0.00000040362 * Math.cos(3.07087573985 + 29.226199388 * t);
-        X0 += 0.00000047665 * Math.cos(5.63221017988 + 73.0846775379 * t);
-        X0 += 0.00000040108 * Math.cos(4.02631792351 + 164.5410506616 * t);
-        X0 += 0.00000037773 * Math.cos(0.38995132314 + 91.2439248026 * t);
-        X0 += 0.00000049928 * Math.cos(4.53119467931 + 51.8870488874 * t);
-        X0 += 0.00000043014 * Math.cos(0.99655679002 + 198.321241911 * t);
-        X0 += 0.00000041910 * Math.cos(1.65589142441 + 141.6988906084 * t);
-        X0 += 0.00000049025 * Math.cos(6.22082931509 + 3340.6124266998 * t);
-        X0 += 0.00000041401 * Math.cos(1.59219235396 + 25.8634950965 * t);
-        X0 += 0.00000046580 * Math.cos(5.66779233323 + 836.5216071956 * t);
-        X0 += 0.00000037167 * Math.cos(6.06382385676 + 226.7924762567 * t);
-        X0 += 0.00000041073 * Math.cos(5.01411798286 + 411.620337349 * t);
-        X0 += 0.00000041143 * Math.cos(4.02823090738 + 1364.7280995819 * t);
-        X0 += 0.00000034855 * Math.cos(5.31109602436 + 184.0941479094 * t);
-        X0 += 0.00000039925 * Math.cos(4.80143653382 + 205.2223405907 * t);
-        X0 += 0.00000033489 * Math.cos(1.71873789163 + 227.5261894396 * t);
-        X0 += 0.00000037356 * Math.cos(3.07320573780 + 0.8031491521 * t);
-        X0 += 0.00000043663 * Math.cos(4.70679058518 + 833.552661779 * t);
-        X0 += 0.00000043619 * Math.cos(0.18982086815 + 199.2844497575 * t);
-        X0 += 0.00000033000 * Math.cos(1.08181996374 + 248.7238180901 * t);
-        X0 += 0.00000034130 * Math.cos(0.02490696585 + 35.685355083 * t);
-        X0 += 0.00000037505 * Math.cos(5.59177300768 + 94.4253185403 * t);
-        X0 += 0.00000041560 * Math.cos(3.77042855528 + 163.5778428151 * t);
-        X0 += 0.00000034189 * Math.cos(3.60118447896 + 335.7749571987 * t);
-        X0 += 0.00000033848 * Math.cos(0.13377240364 + 132.8884225782 * t);
-        X0 += 0.00000031365 * Math.cos(0.09634401362 + 32.2433289144 * t);
-        X0 += 0.00000033282 * Math.cos(3.17341780978 + 0.7507595254 * t);
-        X0 += 0.00000030713 * Math.cos(2.52388675397 + 745.277682393 * t);
-        X0 += 0.00000030162 * Math.cos(5.92221199518 + 31.5407534988 * t);
-        X0 += 0.00000034238 * Math.cos(4.41376588408 + 20.4468691251 * t);
-        X0 += 0.00000030462 * Math.cos(5.36718556691 + 154.6710065653 * t);
-        X0 += 0.00000029782 * Math.cos(2.66340469665 + 43.2408450685 * t);
-        X0 += 0.00000031103 * Math.cos(1.65433821047 + 5.6290742925 * t);
-        X0 += 0.00000035171 * Math.cos(3.56835481210 + 97.4155158163 * t);
-        X0 += 0.00000029774 * Math.cos(3.47143447278 + 167.0893049529 * t);
-        X0 += 0.00000034498 * Math.cos(6.22826740240 + 180.1619946463 * t);
-        X0 += 0.00000036881 * Math.cos(4.37161776762 + 75.3722993983 * t);
-        X0 += 0.00000036881 * Math.cos(3.44937732197 + 74.1908977363 * t);
-        X0 += 0.00000039561 * Math.cos(1.15355175157 + 58.6280888727 * t);
-        X0 += 0.00000032428 * Math.cos(2.26557707921 + 80.4106728598 * t);
-        X0 += 0.00000040057 * Math.cos(0.14187991318 + 1744.8558675419 * t);
-        X0 += 0.00000029395 * Math.cos(0.57842927094 + 530.6541729411 * t);
-        X0 += 0.00000034894 * Math.cos(4.92668814244 + 143.3434220111 * t);
-        X0 += 0.00000029628 * Math.cos(6.11127530723 + 958.576777831 * t);
-        X0 += 0.00000029382 * Math.cos(0.16680358431 + 136.0698163159 * t);
-        X0 += 0.00000038451 * Math.cos(2.94085167994 + 133.1008708993 * t);
-        X0 += 0.00000032922 * Math.cos(1.54640324936 + 215.4379594521 * t);
-        X0 += 0.00000030833 * Math.cos(5.34525997176 + 8.9068362498 * t);
-        X0 += 0.00000032377 * Math.cos(2.27298665245 + 8.5980197091 * t);
-        X0 += 0.00000031149 * Math.cos(2.40599502782 + 140.6563608848 * t);
-        X0 += 0.00000028333 * Math.cos(3.75879212712 + 528.7277572481 * t);
-        X0 += 0.00000038175 * Math.cos(1.51759937027 + 114.9416236346 * t);
-        X0 += 0.00000029983 * Math.cos(0.03280380782 + 90.2807169561 * t);
-        X0 += 0.00000035108 * Math.cos(1.21482551913 + 767.3690829208 * t);
-        X0 += 0.00000034210 * Math.cos(0.77552752107 + 326.8681209489 * t);
-        X0 += 0.00000032854 * Math.cos(1.80185340982 + 1033.3583763983 * t);
-        X0 += 0.00000031995 * Math.cos(5.07221890976 + 216.2680408546 * t);
-        X0 += 0.00000027036 * Math.cos(3.03122786083 + 27.7204748203 * t);
-        X0 += 0.00000027412 * Math.cos(4.74407471114 + 221.1634019642 * t);
-        X0 += 0.00000032772 * Math.cos(5.85879342901 + 42.5382696529 * t);
-        X0 += 0.00000028766 * Math.cos(5.99039327077 + 93.7921790939 * t);
-        X0 += 0.00000033552 * Math.cos(5.03954377007 + 229.0800981171 * t);
-        X0 += 0.00000034037 * Math.cos(0.77937092280 + 142.6620984549 * t);
-        X0 += 0.00000034980 * Math.cos(4.19796683573 + 4.7353024152 * t);
-        X0 += 0.00000026441 * Math.cos(4.88885611145 + 151.260118164 * t);
-        X0 += 0.00000026014 * Math.cos(6.23229383455 + 447.2051186955 * t);
-        X0 += 0.00000025836 * Math.cos(5.11135193547 + 68.3011910129 * t);
-        X0 += 0.00000033053 * Math.cos(0.27134750984 + 1140.38330388 * t);
-        X0 += 0.00000026778 * Math.cos(1.28950862567 + 2.2876218604 * t);
-        X0 += 0.00000034236 * Math.cos(0.18746853265 + 54.2865453324 * t);
-        X0 += 0.00000026054 * Math.cos(4.42308630147 + 11.1575748485 * t);
-        X0 += 0.00000030776 * Math.cos(3.56610123946 + 66.1835788582 * t);
-        X0 += 0.00000024027 * Math.cos(4.78275838142 + 328.2407190726 * t);
-        X0 += 0.00000025791 * Math.cos(3.30165903006 + 65.8747623175 * t);
-        X0 += 0.00000026209 * Math.cos(5.82811768517 + 40.1600250673 * t);
-        X0 += 0.00000025701 * Math.cos(2.19731633217 + 75.8935642601 * t);
-        X0 += 0.00000025701 * Math.cos(5.62367875742 + 73.6696328745 * t);
-        X0 += 0.00000025237 * Math.cos(2.58308165954 + 81.2620061217 * t);
-        X0 += 0.00000025534 * Math.cos(5.23319959774 + 3.6233367224 * t);
-        X0 += 0.00000032460 * Math.cos(3.40226553572 + 1439.5096981492 * t);
-        X0 += 0.00000022931 * Math.cos(1.37523968497 + 117.3198682202 * t);
-        X0 += 0.00000022917 * Math.cos(1.69064646797 + 118.0224436358 * t);
-        X0 += 0.00000030625 * Math.cos(0.38543308891 + 90.9351082619 * t);
-        X0 += 0.00000024336 * Math.cos(4.23223779782 + 969.6224780949 * t);
-        X0 += 0.00000024514 * Math.cos(5.83282809414 + 414.0680179038 * t);
-        X0 += 0.00000022571 * Math.cos(3.73767113299 + 70.6369969831 * t);
-        X0 += 0.00000026189 * Math.cos(1.37714071031 + 10.9338256793 * t);
-        X0 += 0.00000026863 * Math.cos(4.46513557360 + 25.2727942655 * t);
-        X0 += 0.00000024777 * Math.cos(3.82558545550 + 134.0640787458 * t);
-        X0 += 0.00000022242 * Math.cos(0.31041708817 + 85.9391734158 * t);
-        X0 += 0.00000027006 * Math.cos(5.66339011829 + 104.8378793578 * t);
-        X0 += 0.00000030312 * Math.cos(4.91657918154 + 619.2903584945 * t);
-        X0 += 0.00000029499 * Math.cos(1.89955716827 + 565.1156877467 * t);
-        X0 += 0.00000021818 * Math.cos(5.43668115613 + 34.62157350 * t);
-        X0 += 0.00000029506 * Math.cos(0.51511362512 + 367.9701020033 * t);
-        X0 += 0.00000023404 * Math.cos(2.08578309566 + 541.5398145106 * t);
-        X0 += 0.00000023718 * Math.cos(5.53660822153 + 45.5553991793 * t);
-        X0 += 0.00000021550 * Math.cos(0.38029070385 + 140.9651774255 * t);
-        X0 += 0.00000024081 * Math.cos(4.27910869955 + 170.1701249541 * t);
-        X0 += 0.00000023248 * Math.cos(1.69953849620 + 166.828672522 * t);
-        X0 += 0.00000028495 * Math.cos(3.98299051940 + 616.3214130779 * t);
-        X0 += 0.00000029686 * Math.cos(6.13498719207 + 401.6497195162 * t);
-        X0 += 0.00000022285 * Math.cos(2.36595950759 + 107.918699359 * t);
-        X0 += 0.00000022853 * Math.cos(3.29726108048 + 103.9865460959 * t);
-        X0 += 0.00000024493 * Math.cos(0.22829425196 + 49.1787359017 * t);
-        X0 += 0.00000021208 * Math.cos(1.65163762659 + 188.9200730498 * t);
-        X0 += 0.00000026911 * Math.cos(2.55176488247 + 405.9912630565 * t);
-        X0 += 0.00000024843 * Math.cos(5.68013157679 + 57.1436161644 * t);
-        X0 += 0.00000020957 * Math.cos(4.08352831368 + 78.9262001515 * t);
-        X0 += 0.00000025450 * Math.cos(5.85899081364 + 100.6450936638 * t);
-        X0 += 0.00000025078 * Math.cos(2.20068349108 + 92.4195809702 * t);
-        X0 += 0.00000027346 * Math.cos(1.72847573029 + 366.485629295 * t);
-        X0 += 0.00000020414 * Math.cos(5.00632227650 + 221.8971151471 * t);
-        X0 += 0.00000019766 * Math.cos(0.95451045485 + 9.4011688612 * t);
-        X0 += 0.00000022784 * Math.cos(0.28900298014 + 64.4866578288 * t);
-        X0 += 0.00000020289 * Math.cos(1.41637307438 + 143.9341228421 * t);
-        X0 += 0.00000022092 * Math.cos(5.52239110854 + 107.4980082337 * t);
-        X0 += 0.00000027052 * Math.cos(2.23986874740 + 67.9286839974 * t);
-        X0 += 0.00000020822 * Math.cos(5.23087049171 + 77.489911553 * t);
-        X0 += 0.00000020822 * Math.cos(2.59012459788 + 72.0732855816 * t);
-        X0 += 0.00000021660 * Math.cos(1.70573151068 + 55.1378785943 * t);
-        X0 += 0.00000023236 * Math.cos(4.27186225116 + 52.1476813183 * t);
-        X0 += 0.00000024236 * Math.cos(2.27410241019 + 758.7710632117 * t);
-        X0 += 0.00000019238 * Math.cos(3.43567324357 + 144.8973306886 * t);
-        X0 += 0.00000026390 * Math.cos(2.53868436083 + 369.4545747116 * t);
-        X0 += 0.00000019012 * Math.cos(6.23987372040 + 165.6048322446 * t);
-        X0 += 0.00000018856 * Math.cos(2.80925108504 + 289.5651667136 * t);
-        X0 += 0.00000018734 * Math.cos(2.24124585820 + 312.4597163935 * t);
-        X0 += 0.00000026008 * Math.cos(4.64004097317 + 40.8413486235 * t);
-        X0 += 0.00000018884 * Math.cos(6.27294547517 + 22.8945496799 * t);
-        X0 += 0.00000021610 * Math.cos(1.24753853837 + 31.2319369581 * t);
-        X0 += 0.00000021305 * Math.cos(3.56429538359 + 37.8724032069 * t);
-        X0 += 0.00000018454 * Math.cos(5.32515403804 + 381.0909758065 * t);
-        X0 += 0.00000024738 * Math.cos(5.59448379294 + 81.6345131372 * t);
-        X0 += 0.00000018468 * Math.cos(2.20982131564 + 379.1645601135 * t);
-        X0 += 0.00000021107 * Math.cos(1.69240112719 + 252.0865223816 * t);
-        X0 += 0.00000020493 * Math.cos(2.67164929770 + 147.9668498417 * t);
-        X0 += 0.00000020131 * Math.cos(4.43054318113 + 156.6767441354 * t);
-        X0 += 0.00000021567 * Math.cos(1.12409329716 + 225.3080035484 * t);
-        X0 += 0.00000017391 * Math.cos(4.43132202586 + 72.7758609972 * t);
-        X0 += 0.00000017559 * Math.cos(0.35908279202 + 303.0585475323 * t);
-        X0 += 0.00000017692 * Math.cos(1.96141224662 + 47.061123747 * t);
-        X0 += 0.00000022852 * Math.cos(2.89096727559 + 624.919432787 * t);
-        X0 += 0.00000016980 * Math.cos(5.08939294950 + 75.2391729543 * t);
-        X0 += 0.00000016980 * Math.cos(2.73160214009 + 74.3240241803 * t);
-        X0 += 0.00000016467 * Math.cos(1.61925057838 + 2118.7638603784 * t);
-        X0 += 0.00000021062 * Math.cos(1.57933011690 + 331.2096644892 * t);
-        X0 += 0.00000022471 * Math.cos(0.58316987607 + 248.4631856592 * t);
-        X0 += 0.00000019612 * Math.cos(5.21011193916 + 531.978586955 * t);
-        X0 += 0.00000018741 * Math.cos(1.24596689149 + 85.0765393058 * t);
-        X0 += 0.00000018599 * Math.cos(5.83146457459 + 148.1905990109 * t);
-        X0 += 0.00000016059 * Math.cos(2.12824166984 + 610.6923387854 * t);
-        X0 += 0.00000019657 * Math.cos(0.45310853850 + 408.4389436113 * t);
-        X0 += 0.00000020916 * Math.cos(0.97601965892 + 10.0824924174 * t);
-        X0 += 0.00000015997 * Math.cos(0.65650708975 + 118.8737768977 * t);
-        X0 += 0.00000016082 * Math.cos(2.10586039679 + 742.9900605326 * t);
-        X0 += 0.00000018297 * Math.cos(3.57190587419 + 19.0105805266 * t);
-        X0 += 0.00000021297 * Math.cos(1.30859463816 + 95.2766518022 * t);
-        X0 += 0.00000018354 * Math.cos(4.92321966101 + 14.5571624017 * t);
-        X0 += 0.00000021477 * Math.cos(4.05503641492 + 1670.0742689746 * t);
-        X0 += 0.00000018715 * Math.cos(2.00072701140 + 107.0249274817 * t);
-        X0 += 0.00000018450 * Math.cos(3.24530527857 + 135.336103133 * t);
-        X0 += 0.00000018685 * Math.cos(4.76756860051 + 64.6991061499 * t);
-        X0 += 0.00000019467 * Math.cos(0.47075581635 + 550.1378342197 * t);
-        X0 += 0.00000017882 * Math.cos(1.66188161698 + 190.665178189 * t);
-        X0 += 0.00000016009 * Math.cos(2.30252486366 + 75.6116799698 * t);
-        X0 += 0.00000016009 * Math.cos(5.51847022593 + 73.9515171648 * t);
-        X0 += 0.00000016129 * Math.cos(5.70914730386 + 735.8765135318 * t);
-        X0 += 0.00000019328 * Math.cos(0.95373832886 + 363.5166838784 * t);
-        X0 += 0.00000016801 * Math.cos(3.30389996644 + 196.6243208816 * t);
-        X0 += 0.00000017995 * Math.cos(3.15857292717 + 378.6432952517 * t);
-        X0 += 0.00000014946 * Math.cos(0.01933631594 + 73.3453099688 * t);
-        X0 += 0.00000014946 * Math.cos(4.66006612006 + 76.2178871658 * t);
-        X0 += 0.00000014777 * Math.cos(4.06474308403 + 79.7775334134 * t);
-        X0 += 0.00000019634 * Math.cos(2.43284555545 + 376.1956146969 * t);
-        X0 += 0.00000015651 * Math.cos(1.14451886246 + 552.5855147745 * t);
-        X0 += 0.00000014573 * Math.cos(0.98064774203 + 76.3142553854 * t);
-        X0 += 0.00000014573 * Math.cos(3.69875469397 + 73.2489417492 * t);
-        X0 += 0.00000015358 * Math.cos(0.75466203125 + 63.847772888 * t);
-        X0 += 0.00000018123 * Math.cos(0.22904578695 + 118.0706277456 * t);
-        X0 += 0.00000019109 * Math.cos(5.46363197829 + 60.5545045657 * t);
-        X0 += 0.00000014137 * Math.cos(0.58479900612 + 17.6379824029 * t);
-        X0 += 0.00000014481 * Math.cos(1.45090213380 + 1097.0942747017 * t);
-        X0 += 0.00000014249 * Math.cos(3.86670568389 + 909.8187330546 * t);
-        X0 += 0.00000014623 * Math.cos(3.60649391630 + 280.9671470045 * t);
-        X0 += 0.00000016592 * Math.cos(0.96055193273 + 285.1117485887 * t);
-        X0 += 0.00000013647 * Math.cos(6.10917059910 + 842.1506814881 * t);
-        X0 += 0.00000013776 * Math.cos(1.24049151018 + 63.6240237188 * t);
-        X0 += 0.00000014396 * Math.cos(4.20664636136 + 121.8427223143 * t);
-        X0 += 0.00000013418 * Math.cos(3.63644963778 + 69.7856637212 * t);
-        X0 += 0.00000015352 * Math.cos(0.80879086995 + 515.463871093 * t);
-        X0 += 0.00000016062 * Math.cos(2.15259310684 + 73.0364934281 * t);
-        X0 += 0.00000016062 * Math.cos(2.52680932916 + 76.5267037065 * t);
-        X0 += 0.00000018191 * Math.cos(4.17431360807 + 381.6122406683 * t);
-        X0 += 0.00000013441 * Math.cos(4.64743942354 + 535.9107402181 * t);
-        X0 += 0.00000013362 * Math.cos(4.22579107073 + 883.7951792637 * t);
-        X0 += 0.00000013242 * Math.cos(4.64847854184 + 105.380396079 * t);
-        X0 += 0.00000013053 * Math.cos(4.16130064427 + 12.0089081104 * t);
-        X0 += 0.00000013153 * Math.cos(2.76878972668 + 224.8660605637 * t);
-        X0 += 0.00000016919 * Math.cos(3.45612873180 + 703.6331846174 * t);
-        X0 += 0.00000015264 * Math.cos(3.70218217589 + 109.3125493421 * t);
-        X0 += 0.00000014158 * Math.cos(0.89623255371 + 147.5574595645 * t);
-        X0 += 0.00000016005 * Math.cos(0.81396049172 + 176.6505325085 * t);
-        X0 += 0.00000012475 * Math.cos(3.47993027626 + 195.7729876197 * t);
-        X0 += 0.00000013527 * Math.cos(0.03173550378 + 73.4571845534 * t);
-        X0 += 0.00000013527 * Math.cos(4.64766693222 + 76.1060125812 * t);
-        X0 += 0.00000012777 * Math.cos(1.95759097830 + 749.2098356561 * t);
-        X0 += 0.00000015707 * Math.cos(0.55008100514 + 106.0135355254 * t);
-        X0 += 0.00000013959 * Math.cos(6.05672603790 + 60.112561581 * t);
-        X0 += 0.00000012459 * Math.cos(0.64812677658 + 322.6116447801 * t);
-        X0 += 0.00000016441 * Math.cos(4.32023721096 + 83.3796182764 * t);
-        X0 += 0.00000012986 * Math.cos(2.70817696012 + 194.2885149114 * t);
-        X0 += 0.00000016646 * Math.cos(2.86315414412 + 336.8387387817 * t);
-        X0 += 0.00000014831 * Math.cos(2.47765698308 + 115.3623147599 * t);
-        X0 += 0.00000016221 * Math.cos(4.38221842826 + 129.9194771616 * t);
-        X0 += 0.00000013549 * Math.cos(5.95860980996 + 172.1971143836 * t);
-        X0 += 0.00000014395 * Math.cos(2.82450237931 + 232.0490435337 * t);
-        X0 += 0.00000011794 * Math.cos(1.77599774058 + 34.5309507748 * t);
-        X0 += 0.00000014677 * Math.cos(5.99138198153 + 208.8456773131 * t);
-        X0 += 0.00000012330 * Math.cos(4.49348353960 + 83.6884348171 * t);
-        X0 += 0.00000015868 * Math.cos(5.04310300275 + 853.196381752 * t);
-        X0 += 0.00000011579 * Math.cos(2.24791104882 + 65.3322455963 * t);
-        X0 += 0.00000012045 * Math.cos(4.83431406522 + 44.0921783304 * t);
-        X0 += 0.00000012793 * Math.cos(2.24093998376 + 62.7726904569 * t);
-        X0 += 0.00000013012 * Math.cos(2.69693854531 + 905.8865797915 * t);
-        X0 += 0.00000014381 * Math.cos(5.21992705202 + 207.8824694666 * t);
-        X0 += 0.00000011100 * Math.cos(6.25287419269 + 417.0369633204 * t);
-        X0 += 0.00000012912 * Math.cos(1.88014975039 + 288.7350853111 * t);
-        X0 += 0.00000011090 * Math.cos(3.73543127320 + 55.8715917772 * t);
-        X0 += 0.00000011922 * Math.cos(4.45761281158 + 501.3797894433 * t);
-        X0 += 0.00000012011 * Math.cos(5.86269323857 + 210.8514148832 * t);
-        X0 += 0.00000015032 * Math.cos(1.87104290296 + 403.1341922245 * t);
-        X0 += 0.00000012512 * Math.cos(3.54733200878 + 1171.875873269 * t);
-        X0 += 0.00000010863 * Math.cos(3.14224264687 + 229.7614216733 * t);
-        X0 += 0.00000010576 * Math.cos(5.06922756941 + 11.848849416 * t);
-        X0 += 0.00000011670 * Math.cos(5.99338710443 + 308.6876218248 * t);
-        X0 += 0.00000014227 * Math.cos(3.18331697186 + 84.8640909847 * t);
-        X0 += 0.00000014378 * Math.cos(2.15578224139 + 193.655375465 * t);
-        X0 += 0.00000013092 * Math.cos(6.16506375042 + 323.5054166574 * t);
-        X0 += 0.00000010353 * Math.cos(0.14713330527 + 466.7582159433 * t);
-        X0 += 0.00000010969 * Math.cos(3.80039920878 + 680.0573113813 * t);
-        X0 += 0.00000012242 * Math.cos(3.77918880252 + 827.9235874865 * t);
-        X0 += 0.00000011480 * Math.cos(1.70581546221 + 318.679491517 * t);
-        X0 += 0.00000013223 * Math.cos(3.20469849858 + 97.6761482472 * t);
-        X0 += 0.00000013031 * Math.cos(0.40010415472 + 757.8078553652 * t);
-        X0 += 0.00000011539 * Math.cos(0.56262925906 + 74.2121495957 * t);
-        X0 += 0.00000011539 * Math.cos(0.97518052335 + 75.3510475389 * t);
-        X0 += 0.00000011683 * Math.cos(5.01402128604 + 679.2541622292 * t);
-        X0 += 0.00000013475 * Math.cos(6.25032260448 + 438.2982824457 * t);
-        X0 += 0.00000012599 * Math.cos(2.05716339618 + 113.8778420516 * t);
-        X0 += 0.00000011550 * Math.cos(5.90402341878 + 256.4280659219 * t);
-        X0 += 0.00000010715 * Math.cos(5.95633473988 + 1108.1399749656 * t);
-        X0 += 0.00000010811 * Math.cos(2.03451109527 + 89.0086925689 * t);
-        X0 += 0.00000011079 * Math.cos(3.59854256411 + 525.7588118315 * t);
-        X0 += 0.00000010894 * Math.cos(2.60919922031 + 177.3049238143 * t);
-        X0 += 0.00000010858 * Math.cos(3.65797726694 + 63.9965307343 * t);
-        X0 += 0.00000009781 * Math.cos(5.57308312756 + 84.2309515383 * t);
-        X0 += 0.00000011509 * Math.cos(4.35301138657 + 353.301065017 * t);
-        X0 += 0.00000010655 * Math.cos(5.22089129487 + 263.962304048 * t);
-        X0 += 0.00000010262 * Math.cos(2.37561039493 + 361.3778198643 * t);
-        X0 += 0.00000012663 * Math.cos(2.78008051966 + 406.1031376411 * t);
-        X0 += 0.00000011319 * Math.cos(1.06015629901 + 43.5496616092 * t);
-        X0 += 0.00000010733 * Math.cos(1.76426685552 + 89.4506355536 * t);
-        X0 += 0.00000010593 * Math.cos(4.05752516876 + 71.7007785661 * t);
-        X0 += 0.00000011184 * Math.cos(4.54016329366 + 150.3663462867 * t);
-        X0 += 0.00000009502 * Math.cos(1.55679754929 + 350.3321196004 * t);
-        X0 += 0.00000009202 * Math.cos(1.64799177482 + 555.5544601911 * t);
-        X0 += 0.00000009236 * Math.cos(4.12418910644 + 422.6660376129 * t);
-        X0 += 0.00000011426 * Math.cos(3.32782449621 + 124.2904028691 * t);
-        X0 += 0.00000009406 * Math.cos(1.01182317286 + 69.3125829692 * t);
-        X0 += 0.00000009406 * Math.cos(0.52598660955 + 80.2506141654 * t);
-        X0 += 0.00000010265 * Math.cos(3.49514713683 + 543.9180590962 * t);
-        X0 += 0.00000012276 * Math.cos(1.87738186166 + 337.8019466282 * t);
-        X0 += 0.00000009056 * Math.cos(0.11525943257 + 230.9370778409 * t);
-        X0 += 0.00000009524 * Math.cos(3.91872886636 + 212.3358875915 * t);
-        X0 += 0.00000008894 * Math.cos(4.53764717877 + 210.1177017003 * t);
-        X0 += 0.00000010681 * Math.cos(5.41426794763 + 1819.6374661092 * t);
-        X0 += 0.00000009273 * Math.cos(6.23870082502 + 263.0203480609 * t);
-        X0 += 0.00000010129 * Math.cos(1.27631196928 + 443.8636662634 * t);
-        X0 += 0.00000009954 * Math.cos(0.40697067708 + 79.6075237077 * t);
-        X0 += 0.00000009338 * Math.cos(2.76311888794 + 217.4436970222 * t);
-        X0 += 0.00000008643 * Math.cos(1.19803400302 + 86.6304479833 * t);
-        X0 += 0.00000010377 * Math.cos(2.71674179936 + 30.5987975117 * t);
-        X0 += 0.00000009828 * Math.cos(1.09342495140 + 69.9556734269 * t);
-        X0 += 0.00000011715 * Math.cos(4.15216104346 + 544.5087599272 * t);
-        X0 += 0.00000010279 * Math.cos(2.14278644635 + 546.956440482 * t);
-        X0 += 0.00000008512 * Math.cos(3.03492456162 + 532.8723588323 * t);
-        X0 += 0.00000011622 * Math.cos(4.25766350370 + 39.0962434843 * t);
-        X0 += 0.00000010704 * Math.cos(1.12167677007 + 400.1652468079 * t);
-        X0 += 0.00000010253 * Math.cos(0.01695148000 + 30.6894202369 * t);
-        X0 += 0.00000011241 * Math.cos(5.75986380235 + 754.8389099486 * t);
-        X0 += 0.00000010566 * Math.cos(0.53106664555 + 533.6231183577 * t);
-        X0 += 0.00000009226 * Math.cos(0.99071863539 + 75.696622304 * t);
-        X0 += 0.00000009226 * Math.cos(0.54709114702 + 73.8665748306 * t);
-        X0 += 0.00000008052 * Math.cos(6.17336789892 + 674.4282370888 * t);
-        X0 += 0.00000009330 * Math.cos(1.56227394083 + 52.8020726241 * t);
-        X0 += 0.00000009982 * Math.cos(3.21457462706 + 175.4266922311 * t);
-        X0 += 0.00000009204 * Math.cos(3.60245144803 + 223.3815878554 * t);
-        X0 += 0.00000009571 * Math.cos(0.10725282156 + 292.0128472684 * t);
-        X0 += 0.00000008044 * Math.cos(2.40245968826 + 77.1174045375 * t);
-        X0 += 0.00000008044 * Math.cos(5.41853540133 + 72.4457925971 * t);
-        X0 += 0.00000007954 * Math.cos(5.69169782621 + 1022.3126761344 * t);
-        X0 += 0.00000008193 * Math.cos(5.37748789450 + 59.2824801785 * t);
-        X0 += 0.00000011131 * Math.cos(4.60858554715 + 763.4369296577 * t);
-        X0 += 0.00000010522 * Math.cos(2.55229928724 + 154.2984995498 * t);
-        X0 += 0.00000009032 * Math.cos(0.95177465042 + 89.338760969 * t);
-        X0 += 0.00000007893 * Math.cos(4.08556010372 + 93.6916053574 * t);
-        X0 += 0.00000009501 * Math.cos(5.55196701361 + 156.4642958143 * t);
-        X0 += 0.00000009420 * Math.cos(3.18504090065 + 112.6540017742 * t);
-        X0 += 0.00000009347 * Math.cos(1.91675074687 + 156.9855606761 * t);
-        X0 += 0.00000008617 * Math.cos(4.16810264439 + 85.5666664003 * t);
-        X0 += 0.00000009410 * Math.cos(0.01602955020 + 298.2326223919 * t);
-        X0 += 0.00000007942 * Math.cos(3.63978160188 + 108.982480942 * t);
-        X0 += 0.00000008607 * Math.cos(6.26788808564 + 62.9327491513 * t);
-        X0 += 0.00000009481 * Math.cos(4.67209385843 + 36.9091953604 * t);
-        X0 += 0.00000009891 * Math.cos(0.62867977206 + 404.6186649328 * t);
-        X0 += 0.00000007952 * Math.cos(1.86804354686 + 34.2008823747 * t);
-        X0 += 0.00000007543 * Math.cos(4.71193192925 + 77.016830801 * t);
-        X0 += 0.00000007543 * Math.cos(6.25065581393 + 72.5463663336 * t);
-        X0 += 0.00000008486 * Math.cos(4.73310682076 + 77.8624185685 * t);
-        X0 += 0.00000009006 * Math.cos(0.59784568320 + 670.4960838257 * t);
-        X0 += 0.00000007976 * Math.cos(5.62905756989 + 1478.8665740644 * t);
-        X0 += 0.00000007488 * Math.cos(3.66691685281 + 89.9719004154 * t);
-        X0 += 0.00000007543 * Math.cos(3.74071360489 + 74.0478853844 * t);
-        X0 += 0.00000007543 * Math.cos(0.93868883111 + 75.5153117502 * t);
-        X0 += 0.00000008714 * Math.cos(6.11380091266 + 683.9894646444 * t);
-        X0 += 0.00000007753 * Math.cos(3.89251894809 + 192.8040422031 * t);
-        X0 += 0.00000008055 * Math.cos(4.51541804140 + 59.5912967192 * t);
-        X0 += 0.00000008473 * Math.cos(4.68984634698 + 71.0095039986 * t);
-        X0 += 0.00000008473 * Math.cos(3.13114874261 + 78.553693136 * t);
-        X0 += 0.00000008189 * Math.cos(2.89161988893 + 253.4591205053 * t);
-        X0 += 0.00000008070 * Math.cos(5.10239813363 + 37.1698277913 * t);
-        X0 += 0.00000008122 * Math.cos(5.93117685976 + 274.0660483248 * t);
-        X0 += 0.00000007335 * Math.cos(1.41963811973 + 526.5095713569 * t);
-        X0 += 0.00000009184 * Math.cos(3.56690567030 + 100.8051523582 * t);
-        X0 += 0.00000007863 * Math.cos(4.41120869700 + 437.6438911399 * t);
-        X0 += 0.00000008782 * Math.cos(5.21522198514 + 488.8496164711 * t);
-        X0 += 0.00000008166 * Math.cos(2.05529799644 + 325.3836482406 * t);
-        X0 += 0.00000008125 * Math.cos(4.10724946912 + 115.6229471908 * t);
-        X0 += 0.00000007771 * Math.cos(4.29027035291 + 199.0720014364 * t);
-        X0 += 0.00000007086 * Math.cos(2.56698840150 + 95.9792272178 * t);
-        X0 += 0.00000008905 * Math.cos(3.41134329058 + 59.9638037347 * t);
-        X0 += 0.00000007578 * Math.cos(1.04398344607 + 214.2623032845 * t);
-        X0 += 0.00000007594 * Math.cos(2.80403622692 + 213.9534867438 * t);
-        X0 += 0.00000006996 * Math.cos(0.89646725407 + 144.4553877039 * t);
-        X0 += 0.00000009581 * Math.cos(5.19830082333 + 241.8709035202 * t);
-        X0 += 0.00000006890 * Math.cos(1.28122854187 + 164.1203595363 * t);
-        X0 += 0.00000007953 * Math.cos(5.63301442789 + 86.7905066777 * t);
-        X0 += 0.00000006970 * Math.cos(3.53189631991 + 130.552616608 * t);
-        X0 += 0.00000007608 * Math.cos(0.76491107529 + 409.0720830577 * t);
-        X0 += 0.00000008498 * Math.cos(5.43986459432 + 20.4950532349 * t);
-        X0 += 0.00000008495 * Math.cos(5.62996070710 + 249.9476583675 * t);
-        X0 += 0.00000007031 * Math.cos(4.11339759505 + 41.7563723602 * t);
-        X0 += 0.00000007286 * Math.cos(5.61565476776 + 241.6102710893 * t);
-        X0 += 0.00000008429 * Math.cos(0.69056403771 + 153.186533857 * t);
-        X0 += 0.00000006801 * Math.cos(1.01412347718 + 301.4140161296 * t);
-        X0 += 0.00000007107 * Math.cos(4.41250045520 + 33.0252262071 * t);
-        X0 += 0.00000006539 * Math.cos(3.95099517204 + 129.1163280095 * t);
-        X0 += 0.00000006645 * Math.cos(2.66725386831 + 691.1030116452 * t);
-        X0 += 0.00000007084 * Math.cos(3.44059419900 + 102.523325247 * t);
-        X0 += 0.00000008617 * Math.cos(4.71598219531 + 150.4569690119 * t);
-        X0 += 0.00000007721 * Math.cos(2.81365717816 + 180.7951340927 * t);
-        X0 += 0.00000006468 * Math.cos(1.37143971940 + 44.6134431922 * t);
-        X0 += 0.00000007676 * Math.cos(0.12205330938 + 60.2244361656 * t);
-        X0 += 0.00000007616 * Math.cos(0.19823929024 + 343.7398374614 * t);
-        X0 += 0.00000008883 * Math.cos(1.60499381544 + 749.5823426716 * t);
-        X0 += 0.00000007176 * Math.cos(0.91191120786 + 445.7206459872 * t);
-        X0 += 0.00000006334 * Math.cos(3.29105739915 + 1375.7737998458 * t);
-        X0 += 0.00000007576 * Math.cos(1.63976998398 + 148.6694252573 * t);
-        X0 += 0.00000007153 * Math.cos(0.97472079949 + 44.9859502077 * t);
-        X0 += 0.00000007107 * Math.cos(5.68687193631 + 6456.8800576977 * t);
-        X0 += 0.00000007343 * Math.cos(0.40893171081 + 1692.1656695024 * t);
-        X0 += 0.00000006977 * Math.cos(0.80654770180 + 1265.5674786264 * t);
-        X0 += 0.00000006257 * Math.cos(3.43472193500 + 119.3950417595 * t);
-        X0 += 0.00000007314 * Math.cos(6.02029115164 + 188.6594406189 * t);
-        X0 += 0.00000006219 * Math.cos(5.05640701071 + 95.931043108 * t);
-        X0 += 0.00000007640 * Math.cos(1.15145978039 + 21.9795259432 * t);
-        X0 += 0.00000006226 * Math.cos(1.42012111738 + 14.8177948326 * t);
-        X0 += 0.00000006334 * Math.cos(0.41446504672 + 491.8185618877 * t);
-        X0 += 0.00000006172 * Math.cos(1.64082544093 + 358.4088744477 * t);
-        X0 += 0.00000007113 * Math.cos(1.81225163838 + 731.9443602687 * t);
-        X0 += 0.00000006404 * Math.cos(5.37183717126 + 1310.3933701397 * t);
-        X0 += 0.00000006542 * Math.cos(5.62829080881 + 21.1494445407 * t);
-        X0 += 0.00000007490 * Math.cos(0.83410715646 + 1291.4309737229 * t);
-        X0 += 0.00000007443 * Math.cos(1.82999961281 + 396.5419100855 * t);
-        X0 += 0.00000005799 * Math.cos(3.38417427072 + 694.0719570618 * t);
-        X0 += 0.00000006501 * Math.cos(0.47551640281 + 386.0656587932 * t);
-        X0 += 0.00000008032 * Math.cos(2.40925890235 + 223.8235308401 * t);
-        X0 += 0.00000005745 * Math.cos(3.19567125444 + 20202.22629672009 * t);
-        X0 += 0.00000006979 * Math.cos(1.46529506093 + 197.7999770492 * t);
-        X0 += 0.00000007333 * Math.cos(4.15029279297 + 497.4476361802 * t);
-        X0 += 0.00000005643 * Math.cos(2.97445175627 + 116.5379709275 * t);
-        X0 += 0.00000007207 * Math.cos(3.86366874667 + 267.2131337549 * t);
-        X0 += 0.00000006659 * Math.cos(0.62431567185 + 49.5088043018 * t);
-        X0 += 0.00000007612 * Math.cos(0.68976665906 + 139.4807047172 * t);
-        X0 += 0.00000007515 * Math.cos(3.99352933456 + 514.7131115676 * t);
-        X0 += 0.00000005915 * Math.cos(5.38925556106 + 87.0511391086 * t);
-        X0 += 0.00000005915 * Math.cos(2.43173952854 + 62.512058026 * t);
-        X0 += 0.00000005591 * Math.cos(3.33946751463 + 1235.6117715724 * t);
-        X0 += 0.00000006326 * Math.cos(4.56486319559 + 178.1350052168 * t);
-        X0 += 0.00000005697 * Math.cos(1.92398898451 + 809.0135806964 * t);
-        X0 += 0.00000006663 * Math.cos(1.30321671145 + 893.3564068193 * t);
-        X0 += 0.00000006780 * Math.cos(5.62733816868 + 647.0108333148 * t);
-        X0 += 0.00000006712 * Math.cos(2.34121862543 + 304.1223291153 * t);
-        X0 += 0.00000006670 * Math.cos(1.35551468688 + 436.8138097374 * t);
-        X0 += 0.00000005623 * Math.cos(2.57084176932 + 42.0651889009 * t);
-        X0 += 0.00000005492 * Math.cos(3.62415542738 + 293.7097682978 * t);
-        X0 += 0.00000005496 * Math.cos(2.40094729126 + 158.9643659958 * t);
-        X0 += 0.00000005598 * Math.cos(4.42020772430 + 188.2387494936 * t);
-        X0 += 0.00000006865 * Math.cos(4.85354232653 + 407.5876103494 * t);
-        X0 += 0.00000005577 * Math.cos(5.67561254291 + 168.6856522458 * t);
-        X0 += 0.00000007667 * Math.cos(2.26561874174 + 688.6553310904 * t);
-        X0 += 0.00000006329 * Math.cos(5.73450522569 + 956.2891559706 * t);
-        X0 += 0.00000006411 * Math.cos(6.25968556874 + 1581.959348283 * t);
-        X0 += 0.00000006288 * Math.cos(3.75451099606 + 314.9073969483 * t);
-        X0 += 0.00000006275 * Math.cos(6.25871609198 + 96.7611245105 * t);
-        X0 += 0.00000005396 * Math.cos(1.55557394648 + 817.7716590999 * t);
-        X0 += 0.00000006354 * Math.cos(5.36308075526 + 369.9758395734 * t);
-        X0 += 0.00000006932 * Math.cos(1.14877684957 + 483.2205421786 * t);
-        X0 += 0.00000005489 * Math.cos(3.66616236592 + 136.2298750103 * t);
-        X0 += 0.00000005980 * Math.cos(2.26259334707 + 362.0322111701 * t);
-        X0 += 0.00000006735 * Math.cos(1.57580167444 + 5994.9951559861 * t);
-        X0 += 0.00000007154 * Math.cos(0.38367300877 + 259.769518354 * t);
-        X0 += 0.00000006012 * Math.cos(3.76327673441 + 476.3194434989 * t);
-        X0 += 0.00000006717 * Math.cos(0.10184664713 + 474.9468453752 * t);
-        X0 += 0.00000006569 * Math.cos(1.45283712289 + 349.3689117539 * t);
-        X0 += 0.00000005212 * Math.cos(5.81704085223 + 561.1835344836 * t);
-        X0 += 0.00000005251 * Math.cos(0.77102401214 + 305.6068018236 * t);
-        X0 += 0.00000006333 * Math.cos(3.04339045762 + 151.850818995 * t);
-        X0 += 0.00000005922 * Math.cos(2.22626179675 + 896.3253522359 * t);
-        X0 += 0.00000006369 * Math.cos(3.21678234700 + 457.1969883877 * t);
-        X0 += 0.00000007006 * Math.cos(5.48369013299 + 237.4174853953 * t);
-        X0 += 0.00000006494 * Math.cos(3.00088317220 + 9925.2048522057 * t);
-        X0 += 0.00000005421 * Math.cos(0.58125835319 + 229.340730548 * t);
-        X0 += 0.00000005440 * Math.cos(1.54861465044 + 401.5378449316 * t);
-        X0 += 0.00000006012 * Math.cos(6.01637588426 + 695.0351649083 * t);
-        X0 += 0.00000006713 * Math.cos(2.53300554864 + 358.9301393095 * t);
-        X0 += 0.00000004937 * Math.cos(3.50473085964 + 778.4147831847 * t);
-        X0 += 0.00000006282 * Math.cos(2.70326102686 + 711.4493070338 * t);
-        X0 += 0.00000004956 * Math.cos(4.14479114010 + 450.1740641121 * t);
-        X0 += 0.00000005873 * Math.cos(1.54540557953 + 347.9326231554 * t);
-        X0 += 0.00000006652 * Math.cos(1.87662994202 + 236.1936451179 * t);
-        X0 += 0.00000006111 * Math.cos(0.57632522173 + 346.3999663373 * t);
-        X0 += 0.00000005219 * Math.cos(4.29113850675 + 27.7417266797 * t);
-        X0 += 0.00000005752 * Math.cos(4.25326612876 + 838.0060799039 * t);
-        X0 += 0.00000005911 * Math.cos(4.36010712190 + 561.8861098992 * t);
-        X0 += 0.00000005407 * Math.cos(3.68956638902 + 147.9186657319 * t);
-        X0 += 0.00000006307 * Math.cos(3.36363443595 + 300.8927512678 * t);
-        X0 += 0.00000004830 * Math.cos(5.68923513122 + 818.574808252 * t);
-        X0 += 0.00000005465 * Math.cos(5.75477672933 + 49.6518166537 * t);
-        X0 += 0.00000004962 * Math.cos(3.25178378949 + 40.2506477925 * t);
-        X0 += 0.00000004862 * Math.cos(3.98443206848 + 156.043604689 * t);
-        X0 += 0.00000004763 * Math.cos(2.45119683765 + 101.6083015103 * t);
-        X0 += 0.00000004831 * Math.cos(3.31832104988 + 621.7380390493 * t);
-        X0 += 0.00000004773 * Math.cos(5.87209787138 + 123.0183784819 * t);
-        X0 += 0.00000006080 * Math.cos(5.38005534998 + 369.0820676961 * t);
-        X0 += 0.00000004712 * Math.cos(0.72241704208 + 240.3864308119 * t);
-        X0 += 0.00000005759 * Math.cos(0.11226046429 + 215.7467759928 * t);
-        X0 += 0.00000004866 * Math.cos(4.15001957737 + 271.61836777 * t);
-        X0 += 0.00000005247 * Math.cos(3.99273309023 + 89.5993933999 * t);
-        X0 += 0.00000004798 * Math.cos(1.99760114613 + 257.3912737684 * t);
-        X0 += 0.00000005871 * Math.cos(4.92536650443 + 524.2743391232 * t);
-        X0 += 0.00000006355 * Math.cos(2.91875544444 + 425.1137181677 * t);
-        X0 += 0.00000006233 * Math.cos(1.68063570142 + 1595.2926704073 * t);
-        X0 += 0.00000005518 * Math.cos(1.72808265472 + 85.7154242466 * t);
-        X0 += 0.00000006174 * Math.cos(6.20195291439 + 1288.4620283063 * t);
-        X0 += 0.00000005474 * Math.cos(2.88264855465 + 118.8525250383 * t);
-        X0 += 0.00000005268 * Math.cos(3.23575329194 + 164.3809919672 * t);
-        X0 += 0.00000004598 * Math.cos(3.62412165981 + 155.1922714271 * t);
-        X0 += 0.00000004562 * Math.cos(4.84497063338 + 355.7487455718 * t);
-        X0 += 0.00000006030 * Math.cos(4.60083877410 + 3191.0492295652 * t);
-        X0 += 0.00000004619 * Math.cos(4.56283368598 + 194.1766403268 * t);
-        X0 += 0.00000004787 * Math.cos(2.45717311995 + 461.1291416508 * t);
-        X0 += 0.00000005963 * Math.cos(3.78210055675 + 37.611770776 * t);
-        X0 += 0.00000005537 * Math.cos(4.69446621919 + 475.3562356524 * t);
-        X0 += 0.00000004705 * Math.cos(3.18358647312 + 239.1625905345 * t);
-        X0 += 0.00000005254 * Math.cos(4.89804499710 + 335.1418177523 * t);
-        X0 += 0.00000004508 * Math.cos(3.96143616095 + 106.4342266507 * t);
-        X0 += 0.00000004992 * Math.cos(1.91379124627 + 53.653405886 * t);
-        X0 += 0.00000005229 * Math.cos(2.37453148939 + 1514.2912967165 * t);
-        X0 += 0.00000004545 * Math.cos(3.99007594196 + 138.4056222861 * t);
-        X0 += 0.00000005919 * Math.cos(4.46032751712 + 26087.9031415742 * t);
-        X0 += 0.00000005801 * Math.cos(5.60942548145 + 453.424893819 * t);
-        X0 += 0.00000004598 * Math.cos(2.84824896257 + 224.084163271 * t);
-        X0 += 0.00000004442 * Math.cos(2.55719441632 + 1578.0271950199 * t);
-        X0 += 0.00000004529 * Math.cos(0.42105215119 + 529.851023789 * t);
-        X0 += 0.00000005086 * Math.cos(3.02781327890 + 1031.87390369 * t);
-        X0 += 0.00000004518 * Math.cos(3.91961032516 + 529.5309064002 * t);
-        X0 += 0.00000004527 * Math.cos(0.18440066668 + 100.0543928328 * t);
-        X0 += 0.00000005251 * Math.cos(3.17128548460 + 469.7271613599 * t);
-        X0 += 0.00000005605 * Math.cos(2.76934913754 + 25938.3399444396 * t);
-        X0 += 0.00000004316 * Math.cos(5.46795424616 + 132.5796060375 * t);
-        X0 += 0.00000005868 * Math.cos(4.23210669739 + 1065.6017053127 * t);
-        X0 += 0.00000005247 * Math.cos(1.70237501787 + 2199.7652340692 * t);
-        X0 += 0.00000005793 * Math.cos(4.75395160520 + 1894.4190646765 * t);
-        X0 += 0.00000004350 * Math.cos(0.58138936558 + 21.1976286505 * t);
-        X0 += 0.00000004501 * Math.cos(1.13668862821 + 523.4711899711 * t);
-        X0 += 0.00000005387 * Math.cos(0.36739665703 + 193.9160078959 * t);
-        X0 += 0.00000004637 * Math.cos(1.23008862142 + 178.677521938 * t);
-        X0 += 0.00000005789 * Math.cos(6.28230577403 + 131.9252147317 * t);
-        X0 += 0.00000004725 * Math.cos(5.50921508396 + 1222.2784494481 * t);
-        X0 += 0.00000005643 * Math.cos(2.44509347920 + 315.1680293792 * t);
-        X0 += 0.00000004301 * Math.cos(3.66662949536 + 137.5542890242 * t);
-        X0 += 0.00000005743 * Math.cos(5.13195739925 + 246.4361962297 * t);
-        X0 += 0.00000004316 * Math.cos(3.62023586731 + 310.9752436852 * t);
-        X0 += 0.00000004346 * Math.cos(2.53786810357 + 319.5732633943 * t);
-        X0 += 0.00000004279 * Math.cos(1.39897629930 + 383.3091616977 * t);
-        X0 += 0.00000005449 * Math.cos(2.52988969603 + 29.7474642498 * t);
-        X0 += 0.00000005197 * Math.cos(3.92618185605 + 223.4510238246 * t);
-        X0 += 0.00000004770 * Math.cos(5.04550182969 + 823.9914342234 * t);
-        X0 += 0.00000004166 * Math.cos(0.08492730501 + 627.3671133418 * t);
-        X0 += 0.00000004371 * Math.cos(1.61761667675 + 1072.7152523135 * t);
-        X0 += 0.00000004183 * Math.cos(5.74021676862 + 997.9336537462 * t);
-        X0 += 0.00000004817 * Math.cos(2.88466542669 + 3041.4860324306 * t);
-        X0 += 0.00000004598 * Math.cos(5.14313919761 + 158.7519176747 * t);
-        X0 += 0.00000005388 * Math.cos(3.47215286830 + 636.6677084665 * t);
-        X0 += 0.00000004119 * Math.cos(3.70589946554 + 2120.2483330867 * t);
-        X0 += 0.00000004756 * Math.cos(1.48001282657 + 1360.7959463188 * t);
-        X0 += 0.00000005241 * Math.cos(4.99807675817 + 444.2361732789 * t);
-        X0 += 0.00000004624 * Math.cos(3.36725532914 + 887.7273325268 * t);
-        X0 += 0.00000004742 * Math.cos(1.08531509632 + 25788.776747305 * t);
-        X0 += 0.00000004150 * Math.cos(4.29707458546 + 181.6464673546 * t);
-        X0 += 0.00000005700 * Math.cos(4.42021373130 + 772.5887669361 * t);
-        X0 += 0.00000004604 * Math.cos(3.23730533014 + 52177.29075585669 * t);
-        X0 += 0.00000004518 * Math.cos(0.12021315429 + 227.5956254088 * t);
-        X0 += 0.00000004801 * Math.cos(1.91657173650 + 763.2244813366 * t);
-        X0 += 0.00000004302 * Math.cos(4.07488146098 + 99.8419445117 * t);
-        X0 += 0.00000004832 * Math.cos(1.83839787801 + 439.782755154 * t);
-        X0 += 0.00000004731 * Math.cos(4.58220741156 + 598.5346728287 * t);
-        X0 += 0.00000005139 * Math.cos(0.05224584019 + 170.0100662597 * t);
-        X0 += 0.00000005340 * Math.cos(3.74844424776 + 332.1728723357 * t);
-        X0 += 0.00000003961 * Math.cos(5.01930587167 + 216.4804891757 * t);
-        X0 += 0.00000003942 * Math.cos(0.90741814441 + 1020.025054274 * t);
-        X0 += 0.00000004265 * Math.cos(3.62938010955 + 139.1718881765 * t);
-        X0 += 0.00000005538 * Math.cos(0.97968779982 + 296.7481496836 * t);
-        X0 += 0.00000004471 * Math.cos(3.67508159105 + 33.9402499438 * t);
-        X0 += 0.00000003959 * Math.cos(5.50934383834 + 150.9357952583 * t);
-        X0 += 0.00000004752 * Math.cos(5.13310717346 + 230.8252032563 * t);
-        X0 += 0.00000004546 * Math.cos(2.33235152672 + 44.1828010556 * t);
-        X0 += 0.00000004199 * Math.cos(6.00132942631 + 305.4580439773 * t);
-        X0 += 0.00000004748 * Math.cos(4.72352640183 + 551.2129166508 * t);
-        X0 += 0.00000004410 * Math.cos(3.94433837247 + 1034.8428491066 * t);
-        X0 += 0.00000003907 * Math.cos(3.18697718640 + 36.1754821775 * t);
-        X0 += 0.00000003892 * Math.cos(1.69273861503 + 1246.6574718363 * t);
-        X0 += 0.00000004621 * Math.cos(1.60315185681 + 104.5290628171 * t);
-        X0 += 0.00000004010 * Math.cos(0.96832089300 + 957.0923051227 * t);
-        X0 += 0.00000003999 * Math.cos(0.67919742508 + 55.8192021505 * t);
-        X0 += 0.00000003999 * Math.cos(0.85861235733 + 93.7439949841 * t);
-        X0 += 0.00000005220 * Math.cos(2.73849324439 + 66.3960271793 * t);
-        X0 += 0.00000004058 * Math.cos(4.17182793283 + 1044.4040766622 * t);
-        X0 += 0.00000004292 * Math.cos(4.26391012839 + 908.3342603463 * t);
-        X0 += 0.00000005151 * Math.cos(0.05080208802 + 901.9544265284 * t);
-        X0 += 0.00000004067 * Math.cos(1.30593331214 + 528.2064923863 * t);
-        X0 += 0.00000004398 * Math.cos(3.05010000369 + 1019.7644218431 * t);
-        X0 += 0.00000004054 * Math.cos(3.93008682239 + 1147.4968508808 * t);
-        X0 += 0.00000004089 * Math.cos(4.88671627275 + 770.3380283374 * t);
-        X0 += 0.00000004979 * Math.cos(5.72556882350 + 683.0262567979 * t);
-        X0 += 0.00000004410 * Math.cos(5.46838417109 + 460.5384408198 * t);
-        X0 += 0.00000004536 * Math.cos(5.18012223444 + 387.2413149608 * t);
-        X0 += 0.00000004307 * Math.cos(3.93578836401 + 302.637856407 * t);
-        X0 += 0.00000004828 * Math.cos(0.61933574564 + 262.0571402144 * t);
-        X0 += 0.00000003807 * Math.cos(5.26788824520 + 170.7608257851 * t);
-        X0 += 0.00000004776 * Math.cos(5.01230725530 + 379.0158022672 * t);
-        X0 += 0.00000003768 * Math.cos(5.36076741746 + 1755.9015678058 * t);
-        X0 += 0.00000004703 * Math.cos(0.18391535840 + 473.659314623 * t);
-        X0 += 0.00000003914 * Math.cos(5.05534607924 + 525.4981794006 * t);
-        X0 += 0.00000004727 * Math.cos(4.19123757571 + 686.958410061 * t);
-        X0 += 0.00000004710 * Math.cos(2.26465786650 + 484.917463208 * t);
-        X0 += 0.00000004815 * Math.cos(3.65417851763 + 673.316271396 * t);
-        X0 += 0.00000004601 * Math.cos(0.56848721506 + 204.7010757289 * t);
-        X0 += 0.00000003833 * Math.cos(4.50882706137 + 464.4705940829 * t);
-        X0 += 0.00000003921 * Math.cos(2.31238727110 + 367.8582274187 * t);
-        X0 += 0.00000004584 * Math.cos(3.59482425537 + 30.1681553751 * t);
-        X0 += 0.00000004458 * Math.cos(0.31703385792 + 127.5836711914 * t);
-        X0 += 0.00000004432 * Math.cos(4.29795903962 + 781.5961769224 * t);
-        X0 += 0.00000004364 * Math.cos(2.10393899022 + 196.8367692027 * t);
-        X0 += 0.00000003790 * Math.cos(0.89714826480 + 138.6293714553 * t);
-        X0 += 0.00000003668 * Math.cos(4.04509712972 + 829.6205085159 * t);
-        X0 += 0.00000003739 * Math.cos(2.49930590383 + 909.9306076392 * t);
-        X0 += 0.00000003762 * Math.cos(2.60655174903 + 294.3004691288 * t);
-        X0 += 0.00000005077 * Math.cos(1.77462786076 + 786.2309056011 * t);
-        X0 += 0.00000003969 * Math.cos(2.97347811680 + 250.6020496733 * t);
-        X0 += 0.00000003631 * Math.cos(0.71340218954 + 1336.4169239306 * t);
-        X0 += 0.00000004628 * Math.cos(0.34854671150 + 324.7292569348 * t);
-        X0 += 0.00000003876 * Math.cos(5.90510178691 + 990.2294059144 * t);
-        X0 += 0.00000003603 * Math.cos(1.59469951538 + 386.720050099 * t);
-        X0 += 0.00000003764 * Math.cos(5.50610875494 + 68.631259413 * t);
-        X0 += 0.00000003764 * Math.cos(5.45647898824 + 80.9319377216 * t);
-        X0 += 0.00000003603 * Math.cos(3.55211452968 + 586.377006872 * t);
-        X0 += 0.00000003741 * Math.cos(0.33398234764 + 813.8395058368 * t);
-        X0 += 0.00000004245 * Math.cos(0.02485941311 + 291.1190753911 * t);
-        X0 += 0.00000004700 * Math.cos(2.63332393497 + 292.8159964205 * t);
-        X0 += 0.00000003576 * Math.cos(4.10345975514 + 168.5737776612 * t);
-        X0 += 0.00000004645 * Math.cos(0.80030005818 + 441.2672278623 * t);
-        X0 += 0.00000004649 * Math.cos(6.16884000839 + 700.7761137854 * t);
-        X0 += 0.00000004954 * Math.cos(4.52779163462 + 16.6110840816 * t);
-        X0 += 0.00000004002 * Math.cos(1.60087230027 + 395.0574373772 * t);
-        X0 += 0.00000004185 * Math.cos(2.96597437308 + 305.2342948081 * t);
-        X0 += 0.00000004462 * Math.cos(0.93157251490 + 161.4120465506 * t);
-        X0 += 0.00000004102 * Math.cos(4.59093836137 + 1169.3276189777 * t);
-        X0 += 0.00000003588 * Math.cos(0.27873050602 + 1340.3490771937 * t);
-        X0 += 0.00000004185 * Math.cos(6.23485375931 + 1574.8458012822 * t);
-        X0 += 0.00000003578 * Math.cos(5.08118538256 + 154.5591319807 * t);
-        X0 += 0.00000003758 * Math.cos(0.14294735321 + 1041.2226829245 * t);
-        X0 += 0.00000003568 * Math.cos(0.85509496232 + 1016.0929010109 * t);
-        X0 += 0.00000004172 * Math.cos(2.93211623273 + 581.1573228567 * t);
-        X0 += 0.00000003780 * Math.cos(3.65614433020 + 90.5626012464 * t);
-        X0 += 0.00000004564 * Math.cos(2.97361651836 + 112.3933693433 * t);
-        X0 += 0.00000003717 * Math.cos(5.61326911538 + 1471.7530270636 * t);
-        X0 += 0.00000003535 * Math.cos(0.10988485689 + 872.9095376942 * t);
-        X0 += 0.00000004336 * Math.cos(1.59644351231 + 548.6533615114 * t);
-        X0 += 0.00000003439 * Math.cos(1.46598704716 + 812.9457339595 * t);
-        X0 += 0.00000004841 * Math.cos(1.95552773911 + 822.8794685306 * t);
-        X0 += 0.00000003830 * Math.cos(3.44323535772 + 423.4167971383 * t);
-        X0 += 0.00000004454 * Math.cos(3.42579762098 + 374.7111419886 * t);
-        X0 += 0.00000003716 * Math.cos(4.71360653827 + 527.2432845398 * t);
-        X0 += 0.00000004434 * Math.cos(0.71080738069 + 1685.0521225016 * t);
-        X0 += 0.00000003664 * Math.cos(6.12918648460 + 320.1639642253 * t);
-        X0 += 0.00000003860 * Math.cos(4.17371507398 + 48.2367799146 * t);
-        X0 += 0.00000004508 * Math.cos(3.07386548950 + 983.1158589136 * t);
-        X0 += 0.00000004102 * Math.cos(2.99945701352 + 808.2104315443 * t);
-        X0 += 0.00000003995 * Math.cos(2.74810269783 + 632.0329797878 * t);
-        X0 += 0.00000003917 * Math.cos(3.69870848484 + 608.2446582306 * t);
-        X0 += 0.00000003412 * Math.cos(4.77079031354 + 832.5894539325 * t);
-        X0 += 0.00000003961 * Math.cos(3.33250778247 + 185.5786206177 * t);
-        X0 += 0.00000003623 * Math.cos(4.64985456293 + 454.7974919427 * t);
-        X0 += 0.00000004124 * Math.cos(3.37976754896 + 252.6559713532 * t);
-        X0 += 0.00000003919 * Math.cos(0.26952670688 + 6137.4448061199 * t);
-        X0 += 0.00000003372 * Math.cos(0.45014900270 + 406.954470903 * t);
-        X0 += 0.00000003314 * Math.cos(2.84122766862 + 280.2163874791 * t);
-        X0 += 0.00000004206 * Math.cos(2.08946908078 + 435.1962105851 * t);
-        X0 += 0.00000003372 * Math.cos(0.84534442532 + 213.2509113282 * t);
-        X0 += 0.00000003369 * Math.cos(4.04211478849 + 213.3472795478 * t);
-        X0 += 0.00000004058 * Math.cos(1.50736855443 + 432.2272651685 * t);
-        X0 += 0.00000004630 * Math.cos(3.53027863494 + 6170.1612157863 * t);
-        X0 += 0.00000003904 * Math.cos(0.24163677359 + 458.090760265 * t);
-        X0 += 0.00000003335 * Math.cos(3.30445833614 + 771.3012361839 * t);
-        X0 += 0.00000003318 * Math.cos(5.45360392276 + 1450.5553984131 * t);
-        X0 += 0.00000003544 * Math.cos(1.33379125488 + 188.0263011725 * t);
-        X0 += 0.00000003557 * Math.cos(4.95484715865 + 1254.5217783625 * t);
-        X0 += 0.00000003312 * Math.cos(0.89488112289 + 517.1607921224 * t);
-        X0 += 0.00000004587 * Math.cos(4.60594057122 + 25483.43057791229 * t);
-        X0 += 0.00000004069 * Math.cos(1.27659765222 + 274.6354972964 * t);
-        X0 += 0.00000003826 * Math.cos(3.29750710982 + 6129.5804995937 * t);
-        X0 += 0.00000003422 * Math.cos(1.53733627594 + 886.2428598185 * t);
-        X0 += 0.00000003652 * Math.cos(2.44969882307 + 398.6807740996 * t);
-        X0 += 0.00000004578 * Math.cos(0.12293169591 + 2736.1398630379 * t);
-        X0 += 0.00000003702 * Math.cos(5.13339128979 + 1321.4390704036 * t);
-        X0 += 0.00000003351 * Math.cos(3.76280400362 + 743.7932096847 * t);
-        X0 += 0.00000004132 * Math.cos(0.01289789881 + 761.7400086283 * t);
-        X0 += 0.00000004478 * Math.cos(2.53095817704 + 446.3113468182 * t);
-        X0 += 0.00000003398 * Math.cos(0.23047450502 + 182.6096752011 * t);
-        X0 += 0.00000003973 * Math.cos(2.04945985964 + 433.190473015 * t);
-        X0 += 0.00000003778 * Math.cos(1.07863762669 + 86.939264524 * t);
-        X0 += 0.00000004082 * Math.cos(0.25118427960 + 511.5954083047 * t);
-        X0 += 0.00000003857 * Math.cos(3.16268032037 + 254.0922599517 * t);
-        X0 += 0.00000003896 * Math.cos(0.46366115563 + 798.3885715578 * t);
-        X0 += 0.00000003190 * Math.cos(4.25827033023 + 1596.1864422846 * t);
-        X0 += 0.00000003268 * Math.cos(4.00080141209 + 59.0005958882 * t);
-        X0 += 0.00000003725 * Math.cos(1.88982085589 + 498.4108440267 * t);
-        X0 += 0.00000003641 * Math.cos(1.92575340799 + 29.7956483596 * t);
-        X0 += 0.00000004018 * Math.cos(3.66861564496 + 757.2865905034 * t);
-        X0 += 0.00000004350 * Math.cos(2.92081750057 + 442.7517005706 * t);
-        X0 += 0.00000003957 * Math.cos(5.88730379340 + 407.4757357648 * t);
-        X0 += 0.00000003536 * Math.cos(3.36275654524 + 78039.36462902068 * t);
-        X0 += 0.00000003769 * Math.cos(0.60875044771 + 650.0492147006 * t);
-        X0 += 0.00000003231 * Math.cos(4.95941213173 + 274.5873131866 * t);
-        X0 += 0.00000003616 * Math.cos(1.40200347339 + 455.0212411119 * t);
-        X0 += 0.00000003845 * Math.cos(5.35098476288 + 614.8369403696 * t);
-        X0 += 0.00000004406 * Math.cos(5.47551901323 + 847.5673074595 * t);
-        X0 += 0.00000003479 * Math.cos(0.21471955910 + 271.6665518798 * t);
-        X0 += 0.00000003179 * Math.cos(5.76357883511 + 1886.5547581503 * t);
-        X0 += 0.00000004221 * Math.cos(4.85565822083 + 102.5020733876 * t);
-        X0 += 0.00000004257 * Math.cos(4.65953203398 + 269.0701134787 * t);
-        X0 += 0.00000003699 * Math.cos(1.69223585010 + 10067.6545023395 * t);
-        X0 += 0.00000003211 * Math.cos(5.53866872898 + 151.5689347047 * t);
-        X0 += 0.00000004374 * Math.cos(5.39609986794 + 356.9244017394 * t);
-        X0 += 0.00000003516 * Math.cos(0.78503214935 + 470.4934272503 * t);
-        X0 += 0.00000003380 * Math.cos(0.70280224085 + 2.0057375701 * t);
-        X0 += 0.00000003221 * Math.cos(3.21423971704 + 1442.4786435658 * t);
-        X0 += 0.00000004337 * Math.cos(0.71530474065 + 325.9530972122 * t);
-        X0 += 0.00000004363 * Math.cos(4.95297283334 + 10100.3709120059 * t);
-        X0 += 0.00000003105 * Math.cos(0.42212828385 + 551.1010420662 * t);
-        X0 += 0.00000003392 * Math.cos(2.25899685018 + 5909.1678571549 * t);
-        X0 += 0.00000003932 * Math.cos(3.92524338589 + 243.3553762285 * t);
-        X0 += 0.00000004325 * Math.cos(4.50980035788 + 502.8642621516 * t);
-        X0 += 0.00000003079 * Math.cos(4.48934263963 + 828.8173593638 * t);
-        X0 += 0.00000004000 * Math.cos(4.23137559040 + 238.9019581036 * t);
-        X0 += 0.00000003547 * Math.cos(1.18954889005 + 38.6061163898 * t);
-        X0 += 0.00000003069 * Math.cos(3.57500923483 + 53.3233374859 * t);
-        X0 += 0.00000003619 * Math.cos(0.53814238131 + 121.2520214833 * t);
-        X0 += 0.00000003646 * Math.cos(1.55483894873 + 473.4623726669 * t);
-        X0 += 0.00000003219 * Math.cos(2.64143743565 + 1274.9686474876 * t);
-        X0 += 0.00000003339 * Math.cos(2.95148684971 + 839.4905526122 * t);
-        X0 += 0.00000003604 * Math.cos(4.72016797397 + 10059.7901958133 * t);
-        X0 += 0.00000003316 * Math.cos(2.53257077581 + 302.3772239761 * t);
-        X0 += 0.00000003235 * Math.cos(1.79025814071 + 377.1588225434 * t);
-        X0 += 0.00000003558 * Math.cos(0.14957844924 + 366.1131222795 * t);
-        X0 += 0.00000003077 * Math.cos(4.11145647240 + 367.5975949878 * t);
-        X0 += 0.00000003047 * Math.cos(3.71010425526 + 74.5691502462 * t);
-        X0 += 0.00000003047 * Math.cos(0.96929818074 + 74.9940468884 * t);
-        X0 += 0.00000003633 * Math.cos(1.90925113302 + 2175.386211681 * t);
-        X0 += 0.00000003399 * Math.cos(3.06470005459 + 418.5214360287 * t);
-        X0 += 0.00000003398 * Math.cos(4.85438710621 + 991.7138786227 * t);
-        X0 += 0.00000003226 * Math.cos(1.45240599904 + 394.9455627926 * t);
-        X0 += 0.00000003217 * Math.cos(4.87069954758 + 1061.6695520496 * t);
-        X0 += 0.00000003230 * Math.cos(5.92927393828 + 219.5188705615 * t);
-        X0 += 0.00000003756 * Math.cos(1.80033274284 + 669.0116111174 * t);
-        X0 += 0.00000003453 * Math.cos(1.61122511232 + 1205.9761819072 * t);
-        X0 += 0.00000003146 * Math.cos(3.91978798680 + 6533.1461289733 * t);
-        X0 += 0.00000003774 * Math.cos(1.39886028887 + 251.1714986449 * t);
-        X0 += 0.00000003935 * Math.cos(3.17535121697 + 487.8864086246 * t);
-        X0 += 0.00000003189 * Math.cos(2.85027634129 + 439.9315130003 * t);
-        X0 += 0.00000002987 * Math.cos(1.05473954283 + 182.279606801 * t);
-        X0 += 0.00000003273 * Math.cos(5.76363220748 + 2424.1100297711 * t);
-        X0 += 0.00000003667 * Math.cos(3.07143289100 + 1.6969210294 * t);
-        X0 += 0.00000004138 * Math.cos(2.73202390759 + 436.1594184316 * t);
-        X0 += 0.00000003328 * Math.cos(4.55158693252 + 391.976617376 * t);
-        X0 += 0.00000002978 * Math.cos(5.94580624646 + 373.535485821 * t);
-        X0 += 0.00000004154 * Math.cos(5.62690393825 + 195.4004806042 * t);
-        X0 += 0.00000003637 * Math.cos(4.87903340292 + 587.8614795803 * t);
-        X0 += 0.00000003553 * Math.cos(0.07777162237 + 261.9565664779 * t);
-        X0 += 0.00000003149 * Math.cos(1.45984421265 + 395.105621487 * t);
-        X0 += 0.00000002962 * Math.cos(2.60920797777 + 1158.5425511447 * t);
-        X0 += 0.00000003589 * Math.cos(2.03353815770 + 487.1045113319 * t);
-        X0 += 0.00000003349 * Math.cos(5.45643647292 + 523.7530742614 * t);
-        X0 += 0.00000003063 * Math.cos(1.06632237280 + 699.7010313543 * t);
-        X0 += 0.00000003247 * Math.cos(4.79603063160 + 313.42292424 * t);
-        X0 += 0.00000003841 * Math.cos(2.50542705831 + 674.8007441043 * t);
-        X0 += 0.00000002973 * Math.cos(1.67622654649 + 605.275712814 * t);
-        X0 += 0.00000003760 * Math.cos(3.72986643389 + 751.0668153799 * t);
-        X0 += 0.00000003193 * Math.cos(3.98720961022 + 302.8984888379 * t);
-        X0 += 0.00000003640 * Math.cos(6.18169873722 + 410.1358646407 * t);
-        X0 += 0.00000003533 * Math.cos(5.51851339600 + 271.4059194489 * t);
-        X0 += 0.00000003112 * Math.cos(1.63679903914 + 482.2573343321 * t);
-        X0 += 0.00000003029 * Math.cos(4.03332340352 + 245.5424243524 * t);
-        X0 += 0.00000002950 * Math.cos(4.59717760832 + 47.2735720681 * t);
-        X0 += 0.00000002936 * Math.cos(5.68363571769 + 380.8785274854 * t);
-        X0 += 0.00000004122 * Math.cos(4.80389472595 + 2885.7030601725 * t);
-        X0 += 0.00000002922 * Math.cos(0.61496402948 + 94.7553869404 * t);
-        X0 += 0.00000002922 * Math.cos(0.92284575293 + 54.8078101942 * t);
-        X0 += 0.00000003691 * Math.cos(2.87961032764 + 748.0978699633 * t);
-        X0 += 0.00000003250 * Math.cos(3.50840756791 + 949.4362414007 * t);
-        X0 += 0.00000003191 * Math.cos(3.68151144937 + 9839.3775533745 * t);
-        X0 += 0.00000003950 * Math.cos(5.25973340926 + 697.8071683688 * t);
-        X0 += 0.00000002909 * Math.cos(1.86561947750 + 379.3770084346 * t);
-        X0 += 0.00000003750 * Math.cos(3.72694170125 + 5985.4339284305 * t);
-        X0 += 0.00000003840 * Math.cos(4.95586519535 + 6061.6999997061 * t);
-        X0 += 0.00000003498 * Math.cos(0.14578444966 + 3114.7831582896 * t);
-        X0 += 0.00000003912 * Math.cos(4.31481409741 + 669.6929346736 * t);
-        X0 += 0.00000002948 * Math.cos(3.53413358490 + 78338.49102328988 * t);
-        X0 += 0.00000003225 * Math.cos(1.40637905526 + 576.1613880106 * t);
-        X0 += 0.00000002937 * Math.cos(0.29646296117 + 590.2454696603 * t);
-        X0 += 0.00000004025 * Math.cos(2.99661933871 + 25632.99377504689 * t);
-        X0 += 0.00000003822 * Math.cos(3.99843493630 + 827.1728279611 * t);
-        X0 += 0.00000003870 * Math.cos(5.51356586663 + 2124.9836355019 * t);
-        X0 += 0.00000003324 * Math.cos(4.80337367540 + 6209.7787241324 * t);
-        X0 += 0.00000003638 * Math.cos(3.50918818351 + 1008.9793540101 * t);
-        X0 += 0.00000002874 * Math.cos(5.12119295555 + 187.2755416471 * t);
-        X0 += 0.00000003359 * Math.cos(4.46803343205 + 359.893347156 * t);
-        X0 += 0.00000003854 * Math.cos(2.68175502948 + 224.9354965329 * t);
-        X0 += 0.00000003809 * Math.cos(4.38400618597 + 3117.7521037062 * t);
-        X0 += 0.00000003942 * Math.cos(4.28275251770 + 927.9779803193 * t);
-        X0 += 0.00000002978 * Math.cos(1.97136538075 + 400.7346957795 * t);
-        X0 += 0.00000002912 * Math.cos(1.78010174024 + 753.1419889192 * t);
-        X0 += 0.00000003186 * Math.cos(3.01587158229 + 53.6321540266 * t);
-        X0 += 0.00000003735 * Math.cos(5.74696647535 + 909.70685847 * t);
-        X0 += 0.00000003185 * Math.cos(5.79943875516 + 5982.4649830139 * t);
-        X0 += 0.00000003341 * Math.cos(5.20072763739 + 511.5317178299 * t);
-        X0 += 0.00000002997 * Math.cos(0.04223641582 + 354.9979860464 * t);
-        X0 += 0.00000002902 * Math.cos(1.79129681788 + 47.2211824414 * t);
-        X0 += 0.00000002902 * Math.cos(6.02969827171 + 102.3420146932 * t);
-        X0 += 0.00000003255 * Math.cos(1.03591834871 + 482.3692089167 * t);
-        X0 += 0.00000003946 * Math.cos(0.04138275847 + 6096.8640899273 * t);
-        X0 += 0.00000003872 * Math.cos(5.45119868236 + 470.6903692064 * t);
-        X0 += 0.00000003005 * Math.cos(3.53992132641 + 162.635886828 * t);
-        X0 += 0.00000003924 * Math.cos(4.40439164938 + 526.9826521089 * t);
-        X0 += 0.00000002825 * Math.cos(3.80497099809 + 1606.3383706712 * t);
-        X0 += 0.00000003232 * Math.cos(3.91334446659 + 444.8268741099 * t);
-        X0 += 0.00000003561 * Math.cos(5.09342203154 + 1668.5897962663 * t);
-        X0 += 0.00000002803 * Math.cos(2.09081885651 + 451.7279727896 * t);
-        X0 += 0.00000002835 * Math.cos(5.26040401145 + 294.5611015597 * t);
-        X0 += 0.00000002802 * Math.cos(1.97945485167 + 1592.0418407004 * t);
-        X0 += 0.00000003388 * Math.cos(4.62841923047 + 25862.073873164 * t);
-        X0 += 0.00000003050 * Math.cos(2.94686489799 + 6530.1771835567 * t);
-        X0 += 0.00000003115 * Math.cos(2.76472416518 + 436.7501192626 * t);
-        X0 += 0.00000003266 * Math.cos(4.88735094654 + 265.7286610466 * t);
-        X0 += 0.00000003668 * Math.cos(5.22572399717 + 415.6643651967 * t);
-        X0 += 0.00000003868 * Math.cos(2.64909249866 + 113.4571509263 * t);
-        X0 += 0.00000002866 * Math.cos(3.66222746884 + 529.6427809848 * t);
-        X0 += 0.00000002850 * Math.cos(0.93628396613 + 1448.9108670104 * t);
-        X0 += 0.00000002864 * Math.cos(0.67930219877 + 529.7391492044 * t);
-        X0 += 0.00000003327 * Math.cos(0.82829766822 + 412.5835451955 * t);
-        X0 += 0.00000002863 * Math.cos(4.00036548571 + 323.2447842265 * t);
-        X0 += 0.00000002774 * Math.cos(4.33267175059 + 551.7823656224 * t);
-        X0 += 0.00000003704 * Math.cos(2.58308448101 + 25865.04281858059 * t);
-        X0 += 0.00000002806 * Math.cos(5.17543386153 + 2088.8081533244 * t);
-        X0 += 0.00000002766 * Math.cos(2.53845010068 + 1600.1185955477 * t);
-        X0 += 0.00000003634 * Math.cos(3.00439582111 + 77.6386693993 * t);
-        X0 += 0.00000003634 * Math.cos(1.67500661490 + 71.9245277353 * t);
-        X0 += 0.00000002909 * Math.cos(3.25311064209 + 112.4939430798 * t);
-        X0 += 0.00000002957 * Math.cos(3.89190030394 + 53.5839699168 * t);
-        X0 += 0.00000002793 * Math.cos(1.50011760025 + 465.273743235 * t);
-        X0 += 0.00000003101 * Math.cos(1.82377616022 + 529.9515975255 * t);
-        X0 += 0.00000003179 * Math.cos(2.47362164483 + 529.4303326637 * t);
-        X0 += 0.00000003091 * Math.cos(3.36846576185 + 912.7876784712 * t);
-        X0 += 0.00000002841 * Math.cos(4.99710506357 + 1349.7502460549 * t);
-        X0 += 0.00000002975 * Math.cos(4.20884044975 + 224.1847370075 * t);
-        X0 += 0.00000003614 * Math.cos(0.09529926684 + 9991.9096959257 * t);
-        X0 += 0.00000002886 * Math.cos(5.75239983007 + 428.0826635843 * t);
-        X0 += 0.00000003022 * Math.cos(3.67976254648 + 829.4080601948 * t);
-        X0 += 0.00000002937 * Math.cos(0.99310447017 + 282.6640680339 * t);
-        X0 += 0.00000002920 * Math.cos(4.81655636505 + 1190.7858800591 * t);
-        X0 += 0.00000002859 * Math.cos(3.59162912719 + 395.9087706391 * t);
-        X0 += 0.00000003672 * Math.cos(0.39454281112 + 376.9463742223 * t);
-        X0 += 0.00000003502 * Math.cos(5.14876183773 + 9915.6436246501 * t);
-        X0 += 0.00000003139 * Math.cos(6.22398139851 + 10139.988420352 * t);
-        X0 += 0.00000003266 * Math.cos(0.65217674021 + 201.2901873276 * t);
-        X0 += 0.00000002771 * Math.cos(5.00950677412 + 1821.1219388175 * t);
-        X0 += 0.00000002891 * Math.cos(0.16321611264 + 245.4942402426 * t);
-        X0 += 0.00000002716 * Math.cos(5.94390688693 + 1533.2536931333 * t);
-        X0 += 0.00000003340 * Math.cos(4.48479148149 + 1366.2125722902 * t);
-        X0 += 0.00000002941 * Math.cos(1.40585778661 + 147.8662761052 * t);
-        X0 += 0.00000003427 * Math.cos(1.74554946194 + 914.4845995006 * t);
-        X0 += 0.00000003494 * Math.cos(1.50642632860 + 191.3195694948 * t);
-        X0 += 0.00000003318 * Math.cos(3.73912779069 + 260.360219185 * t);
-        X0 += 0.00000003079 * Math.cos(1.13242149517 + 1062.5633239269 * t);
-        X0 += 0.00000002969 * Math.cos(4.51605546992 + 1541.8517128424 * t);
-        X0 += 0.00000003726 * Math.cos(2.67277746243 + 26542.81250810149 * t);
-        X0 += 0.00000003051 * Math.cos(2.78368746438 + 421.1815649046 * t);
-        X0 += 0.00000003639 * Math.cos(2.40271831395 + 513.079881013 * t);
-        X0 += 0.00000002651 * Math.cos(2.04478708937 + 960.0612505393 * t);
-        X0 += 0.00000003509 * Math.cos(3.30273492208 + 6354.8885031421 * t);
-        X0 += 0.00000002660 * Math.cos(4.35820637617 + 96.2398596487 * t);
-        X0 += 0.00000002984 * Math.cos(0.93929798505 + 9912.6746792335 * t);
-        X0 += 0.00000002642 * Math.cos(4.81017870174 + 487.1526954417 * t);
-        X0 += 0.00000003349 * Math.cos(1.77006672178 + 67.8804998876 * t);
-        X0 += 0.00000003715 * Math.cos(1.46398359301 + 10027.0737861469 * t);
-        X0 += 0.00000002698 * Math.cos(2.25129487280 + 569.0478410098 * t);
-        X0 += 0.00000002779 * Math.cos(2.95332852844 + 392.6579409322 * t);
-        X0 += 0.00000003062 * Math.cos(3.91142815674 + 789.4604834486 * t);
-        X0 += 0.00000002631 * Math.cos(2.37052193061 + 1474.9344208013 * t);
-        X0 += 0.00000003011 * Math.cos(2.22470704566 + 1605.5876111458 * t);
-        X0 += 0.00000002879 * Math.cos(4.54178981532 + 857.1285350151 * t);
-        X0 += 0.00000003258 * Math.cos(0.70846024546 + 104.5772469269 * t);
-        X0 += 0.00000003049 * Math.cos(2.06524904960 + 1303.2798231389 * t);
-        X0 += 0.00000002961 * Math.cos(2.78419866266 + 12564.6672272745 * t);
-        X0 += 0.00000002727 * Math.cos(0.43906543709 + 1063.8353483141 * t);
-        X0 += 0.00000003091 * Math.cos(5.61530760960 + 554.1818620674 * t);
-        X0 += 0.00000002903 * Math.cos(3.07181627040 + 1541.1179996595 * t);
-        X0 += 0.00000002689 * Math.cos(3.91719627755 + 517.4214245533 * t);
-        X0 += 0.00000002846 * Math.cos(3.20097069993 + 540.0553418023 * t);
-        X0 += 0.00000003440 * Math.cos(2.45078516584 + 236.5024616586 * t);
-        X0 += 0.00000002719 * Math.cos(0.45068700830 + 52325.36948028299 * t);
-        X0 += 0.00000003093 * Math.cos(0.78760201101 + 93.531546663 * t);
-        X0 += 0.00000003043 * Math.cos(5.84553288250 + 752.5512880882 * t);
-        X0 += 0.00000002585 * Math.cos(2.67373555383 + 2117.2793876701 * t);
-        X0 += 0.00000003559 * Math.cos(4.29992888175 + 900.4699538201 * t);
-        X0 += 0.00000003598 * Math.cos(0.24186259790 + 132.0370893163 * t);
-        X0 += 0.00000002947 * Math.cos(1.10177902088 + 446.83261168 * t);
-        X0 += 0.00000002584 * Math.cos(3.54943039679 + 268.4369740323 * t);
-        X0 += 0.00000003167 * Math.cos(3.77971849522 + 12567.6361726911 * t);
-        X0 += 0.00000003345 * Math.cos(1.93508620092 + 583.4080614554 * t);
-        X0 += 0.00000002651 * Math.cos(2.97228932638 + 643.8294395771 * t);
-        X0 += 0.00000002573 * Math.cos(0.04096075848 + 584.8925341637 * t);
-        X0 += 0.00000002562 * Math.cos(5.04631980333 + 1374.1292684431 * t);
-        X0 += 0.00000003377 * Math.cos(4.72559531257 + 10285.0981993617 * t);
-        X0 += 0.00000002831 * Math.cos(4.29539738341 + 539.773457512 * t);
-        X0 += 0.00000003190 * Math.cos(3.69756383156 + 769.6198215195 * t);
-        X0 += 0.00000003242 * Math.cos(1.83260797987 + 805.2414861277 * t);
-        X0 += 0.00000003373 * Math.cos(0.25136652920 + 764.921402366 * t);
-        X0 += 0.00000003299 * Math.cos(2.15481336956 + 440.8947208468 * t);
-        X0 += 0.00000002810 * Math.cos(1.23890197328 + 311.2840602259 * t);
-        X0 += 0.00000002856 * Math.cos(0.44622736949 + 2281.6603796373 * t);
-        X0 += 0.00000002578 * Math.cos(1.28353508968 + 1160.8301730051 * t);
-        X0 += 0.00000002783 * Math.cos(1.02755087868 + 1268.7488723641 * t);
-        X0 += 0.00000003006 * Math.cos(4.04391286855 + 1544.0869450761 * t);
-        X0 += 0.00000003130 * Math.cos(6.25757675247 + 2727.9717264555 * t);
-        X0 += 0.00000002551 * Math.cos(2.40340258218 + 1159.3457002968 * t);
-        X0 += 0.00000003287 * Math.cos(0.26000896186 + 463.2467538055 * t);
-        X0 += 0.00000002596 * Math.cos(5.25166061607 + 826.4391147782 * t);
-        X0 += 0.00000002734 * Math.cos(1.91308659798 + 799.8730442661 * t);
-        X0 += 0.00000003317 * Math.cos(2.51269837372 + 807.7528571573 * t);
-        X0 += 0.00000003375 * Math.cos(1.74643993256 + 605.9570363702 * t);
-        X0 += 0.00000002858 * Math.cos(1.86456657305 + 430.5303441391 * t);
-        X0 += 0.00000003011 * Math.cos(2.37110515848 + 373.0142209592 * t);
-        X0 += 0.00000002984 * Math.cos(0.24635683106 + 936.6454359976 * t);
-        X0 += 0.00000002866 * Math.cos(4.91213635727 + 2192.6516870684 * t);
-        X0 += 0.00000003269 * Math.cos(0.04981734572 + 737.4246767149 * t);
-        X0 += 0.00000003098 * Math.cos(4.07812927937 + 657.4233941323 * t);
-        X0 += 0.00000002711 * Math.cos(3.98895103447 + 678.3603903519 * t);
-        X0 += 0.00000002507 * Math.cos(1.43443806433 + 20278.49236799569 * t);
-        X0 += 0.00000002824 * Math.cos(2.94497633242 + 508.6264628881 * t);
-        X0 += 0.00000003132 * Math.cos(5.12767484173 + 1553.6481726317 * t);
-        X0 += 0.00000002806 * Math.cos(5.71814807428 + 351.7047177241 * t);
-        X0 += 0.00000002705 * Math.cos(2.12994126939 + 172.4577468145 * t);
-        X0 += 0.00000003334 * Math.cos(0.15340910675 + 1361.7591541653 * t);
-        X0 += 0.00000002782 * Math.cos(3.15719024944 + 519.6084726772 * t);
-        X0 += 0.00000003073 * Math.cos(2.66711354956 + 106.8648687873 * t);
-        X0 += 0.00000003061 * Math.cos(2.24403344534 + 52174.32181044009 * t);
-        X0 += 0.00000002505 * Math.cos(0.80744053241 + 672.9437643805 * t);
-        X0 += 0.00000003073 * Math.cos(0.35436617007 + 10065.2068217847 * t);
-        X0 += 0.00000003459 * Math.cos(4.58079150140 + 809.2373298656 * t);
-        X0 += 0.00000003386 * Math.cos(0.97499612837 + 1056.2005364515 * t);
-        X0 += 0.00000002648 * Math.cos(3.45216167121 + 659.674132731 * t);
-        X0 += 0.00000002685 * Math.cos(4.85368581683 + 257.9125386302 * t);
-        X0 += 0.00000002572 * Math.cos(2.13972748651 + 584.8288436889 * t);
-        X0 += 0.00000002506 * Math.cos(6.23212920846 + 382.1335055301 * t);
-        X0 += 0.00000002717 * Math.cos(2.48381545310 + 351.9284668933 * t);
-        X0 += 0.00000003347 * Math.cos(5.14134665087 + 247.8300462128 * t);
-        X0 += 0.00000002428 * Math.cos(0.46154118993 + 20275.52342257909 * t);
-        X0 += 0.00000002799 * Math.cos(4.86813388259 + 1005.047200747 * t);
-        X0 += 0.00000002657 * Math.cos(3.11477828769 + 587.7977891055 * t);
-        X0 += 0.00000003021 * Math.cos(1.21277274474 + 280.003939158 * t);
-        X0 += 0.00000002618 * Math.cos(5.27831691087 + 877.5754041402 * t);
-        X0 += 0.00000002592 * Math.cos(3.82396293779 + 175.820451106 * t);
-        X0 += 0.00000003345 * Math.cos(5.33418227770 + 810.6581120991 * t);
-        X0 += 0.00000002427 * Math.cos(6.00834528881 + 243.8978929497 * t);
-        X0 += 0.00000002413 * Math.cos(3.69693635912 + 623.0255698015 * t);
-        X0 += 0.00000002744 * Math.cos(3.90942586821 + 442.639825986 * t);
-        X0 += 0.00000002509 * Math.cos(3.57281224902 + 1789.6817590552 * t);
-        X0 += 0.00000003097 * Math.cos(0.89535439878 + 911.515654084 * t);
-        X0 += 0.00000003208 * Math.cos(3.79865497427 + 386.9806825299 * t);
-        X0 += 0.00000003146 * Math.cos(2.76661285663 + 1242.7253185732 * t);
-        X0 += 0.00000002431 * Math.cos(0.85207197895 + 836.7340555167 * t);
-        X0 += 0.00000002622 * Math.cos(1.08347941593 + 369.342700127 * t);
-        X0 += 0.00000002769 * Math.cos(4.12625133544 + 207.3612046048 * t);
-        X0 += 0.00000002906 * Math.cos(0.80826038658 + 481.7360694703 * t);
-        X0 += 0.00000002505 * Math.cos(0.32705752925 + 6681.2248533996 * t);
-        X0 += 0.00000002598 * Math.cos(3.45095863503 + 2267.4332856357 * t);
-        X0 += 0.00000003109 * Math.cos(6.09716177778 + 45.0341343175 * t);
-        X0 += 0.00000002804 * Math.cos(4.20913964758 + 978.9712573294 * t);
-        X0 += 0.00000002802 * Math.cos(3.34017271353 + 764.4001375042 * t);
-        X0 += 0.00000002592 * Math.cos(3.49895787987 + 360.5477384618 * t);
-        X0 += 0.00000002999 * Math.cos(5.22361260271 + 6134.9971255651 * t);
-        X0 += 0.00000002428 * Math.cos(2.99468117542 + 229.4526051326 * t);
-        X0 += 0.00000002533 * Math.cos(5.95316695932 + 432.8179659995 * t);
-        X0 += 0.00000002382 * Math.cos(0.68810083757 + 325.7930385178 * t);
-        X0 += 0.00000002930 * Math.cos(1.53042890055 + 173.1390703707 * t);
-        X0 += 0.00000002420 * Math.cos(0.89948530881 + 1720.4768451537 * t);
-        X0 += 0.00000002377 * Math.cos(2.36761685006 + 1928.1992559259 * t);
-        X0 += 0.00000002782 * Math.cos(2.17593412190 + 889.2118052351 * t);
-        X0 += 0.00000002573 * Math.cos(0.26649824790 + 1536.2226385499 * t);
-        X0 += 0.00000002508 * Math.cos(2.11454020497 + 341.7340998913 * t);
-        X0 += 0.00000002448 * Math.cos(1.98619678461 + 1327.8189042215 * t);
-        X0 += 0.00000003336 * Math.cos(3.10162597185 + 725.0914456988 * t);
-        X0 += 0.00000002392 * Math.cos(0.21242741759 + 614.6244920485 * t);
-        X0 += 0.00000002507 * Math.cos(1.80828402176 + 394.3548619616 * t);
-        X0 += 0.00000002823 * Math.cos(0.19015234079 + 122.0551706354 * t);
-        X0 += 0.00000002530 * Math.cos(2.95773515771 + 1330.7878496381 * t);
-        X0 += 0.00000002532 * Math.cos(4.46226588980 + 1511.3223512999 * t);
-        X0 += 0.00000003040 * Math.cos(5.16745492791 + 480.8847362084 * t);
-        X0 += 0.00000002606 * Math.cos(2.59310129142 + 661.0949149645 * t);
-        X0 += 0.00000002474 * Math.cos(2.81621738023 + 1407.2663692348 * t);
-        X0 += 0.00000002595 * Math.cos(3.72982344914 + 1586.1039498672 * t);
-        X0 += 0.00000002451 * Math.cos(1.74083806788 + 838.218528225 * t);
-        X0 += 0.00000002448 * Math.cos(5.35097946752 + 320.3240229197 * t);
-        X0 += 0.00000002622 * Math.cos(5.73550541407 + 1048.3362299253 * t);
-        X0 += 0.00000002851 * Math.cos(2.37230529824 + 747.7253629478 * t);
-        X0 += 0.00000003251 * Math.cos(1.90510984540 + 83.1671699553 * t);
-        X0 += 0.00000002387 * Math.cos(2.83037383593 + 714.6788848813 * t);
-        X0 += 0.00000002780 * Math.cos(1.77987961860 + 141.1776257466 * t);
-        X0 += 0.00000002460 * Math.cos(2.27287175347 + 1292.9154464312 * t);
-        X0 += 0.00000002598 * Math.cos(5.98306227790 + 1155.361157407 * t);
-        X0 += 0.00000002783 * Math.cos(1.02550599707 + 1080.5795588397 * t);
-        X0 += 0.00000003097 * Math.cos(4.72047182702 + 10063.7223490764 * t);
-        X0 += 0.00000002910 * Math.cos(0.78044221568 + 650.9429865779 * t);
-        X0 += 0.00000002359 * Math.cos(1.30445584096 + 378.1220303899 * t);
-        X0 += 0.00000002497 * Math.cos(4.18707812445 + 599.6466385215 * t);
-        X0 += 0.00000003102 * Math.cos(2.15094298964 + 476.4313180835 * t);
-        X0 += 0.00000002875 * Math.cos(5.63713008045 + 6812.766815086 * t);
-        X0 += 0.00000002522 * Math.cos(2.55619336731 + 441.1553532777 * t);
-        X0 += 0.00000002570 * Math.cos(3.49764756320 + 1699.2792165032 * t);
-        X0 += 0.00000002325 * Math.cos(0.80296980818 + 290.3683158657 * t);
-        X0 += 0.00000002635 * Math.cos(1.08428876142 + 6132.0281801485 * t);
-        X0 += 0.00000002743 * Math.cos(4.20664830562 + 1969.2006632438 * t);
-        X0 += 0.00000002417 * Math.cos(3.03355272640 + 283.6272758804 * t);
-        X0 += 0.00000002315 * Math.cos(4.85594677157 + 424.1505103212 * t);
-        X0 += 0.00000002411 * Math.cos(4.77687475493 + 343.2185725996 * t);
-        X0 += 0.00000002923 * Math.cos(4.03560484889 + 1599.9585368533 * t);
-        X0 += 0.00000003120 * Math.cos(5.44366360558 + 769.8167634756 * t);
-        X0 += 0.00000002459 * Math.cos(0.51644781610 + 494.2662424425 * t);
-        X0 += 0.00000002279 * Math.cos(5.84210879958 + 594.9113361063 * t);
-        X0 += 0.00000002380 * Math.cos(0.93599236213 + 1258.4539316256 * t);
-        X0 += 0.00000002675 * Math.cos(1.18409531003 + 519.0177718462 * t);
-        X0 += 0.00000002764 * Math.cos(3.89164591027 + 291.0496394219 * t);
-        X0 += 0.00000002585 * Math.cos(1.04410652057 + 754.0357607965 * t);
-        X0 += 0.00000002276 * Math.cos(2.99670185563 + 1404.0849754971 * t);
-        X0 += 0.00000002768 * Math.cos(0.90030726299 + 2274.5468326365 * t);
-        X0 += 0.00000002274 * Math.cos(1.85168217548 + 104276.83096772949 * t);
-        X0 += 0.00000002268 * Math.cos(0.20518949756 + 537.3952129264 * t);
-        X0 += 0.00000002286 * Math.cos(5.33958308193 + 557.0389328994 * t);
-        X0 += 0.00000002319 * Math.cos(3.39859717806 + 173.0484476455 * t);
-        X0 += 0.00000002773 * Math.cos(4.21974240408 + 431.3334932912 * t);
-        X0 += 0.00000002914 * Math.cos(3.02958692463 + 784.7464328928 * t);
-        X0 += 0.00000002993 * Math.cos(0.49951880041 + 459.0539681115 * t);
-        X0 += 0.00000003129 * Math.cos(4.47843032507 + 939.6143814142 * t);
-        X0 += 0.00000003165 * Math.cos(4.75058891561 + 26161.20026743319 * t);
-        X0 += 0.00000002283 * Math.cos(5.65964892836 + 811.4612612512 * t);
-        X0 += 0.00000002261 * Math.cos(4.33110508196 + 1736.9915610157 * t);
-        X0 += 0.00000002566 * Math.cos(4.39554125385 + 63.4752658725 * t);
-        X0 += 0.00000002681 * Math.cos(6.00923286619 + 412.3229127646 * t);
-        X0 += 0.00000002437 * Math.cos(0.38702218640 + 376.8769382531 * t);
-        X0 += 0.00000002452 * Math.cos(3.15408990558 + 287.2506126028 * t);
-        X0 += 0.00000002384 * Math.cos(1.73850316210 + 1970.6851359521 * t);
-        X0 += 0.00000002249 * Math.cos(3.06698924618 + 1372.6447957348 * t);
-        X0 += 0.00000002259 * Math.cos(4.68065566116 + 113.3877149571 * t);
-        X0 += 0.00000002278 * Math.cos(5.35632851845 + 1026.2448293975 * t);
-        X0 += 0.00000002834 * Math.cos(1.49045047339 + 485.8806710545 * t);
-        X0 += 0.00000003153 * Math.cos(4.46150066246 + 3795.5217932271 * t);
-        X0 += 0.00000002368 * Math.cos(5.98954180707 + 226.6324175623 * t);
-        X0 += 0.00000002795 * Math.cos(0.77259066809 + 10742.9765113056 * t);
-        X0 += 0.00000002231 * Math.cos(6.02735193252 + 386.3475430835 * t);
-        X0 += 0.00000002256 * Math.cos(1.85300200201 + 1811.773159583 * t);
-        X0 += 0.00000002945 * Math.cos(3.51719262167 + 714.4182524504 * t);
-        X0 += 0.00000003088 * Math.cos(5.58047807216 + 230.2826865351 * t);
-        X0 += 0.00000002228 * Math.cos(3.92663836521 + 844.5983620429 * t);
-        X0 += 0.00000002685 * Math.cos(2.97936141724 + 303.5798123941 * t);
-        X0 += 0.00000002260 * Math.cos(4.95342040684 + 123.960334469 * t);
-        X0 += 0.00000002403 * Math.cos(2.94703926890 + 1151.4290041439 * t);
-        X0 += 0.00000002879 * Math.cos(5.91440314810 + 924.0458270562 * t);
-        X0 += 0.00000002854 * Math.cos(0.88172955033 + 646.1170614375 * t);
-        X0 += 0.00000003091 * Math.cos(0.26846308854 + 3413.9095525588 * t);
-        X0 += 0.00000002202 * Math.cos(4.93836731176 + 1436.5407527326 * t);
-        X0 += 0.00000002308 * Math.cos(4.93454100712 + 1170.3914005607 * t);
-        X0 += 0.00000002331 * Math.cos(5.55597569672 + 820.8100404857 * t);
-        X0 += 0.00000002447 * Math.cos(5.30192531544 + 299.7170951002 * t);
-        X0 += 0.00000002713 * Math.cos(1.33801079136 + 770.5504766585 * t);
-        X0 += 0.00000002261 * Math.cos(0.44102163363 + 817.0903355437 * t);
-        X0 += 0.00000002950 * Math.cos(5.76859185743 + 653.2306084383 * t);
-        X0 += 0.00000002185 * Math.cos(2.44586598369 + 246.9787129509 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 649 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.00739730021 * Math.cos(6.01067825116 + 149.5631971346 * t);
-        X1 -= 0.00526878306;
-        X1 += 0.00239840801 * Math.cos(5.33657762707 + 73.297125859 * t);
-        X1 += 0.00229676787 * Math.cos(2.48204455775 + 76.2660712756 * t);
-        X1 += 0.00111045158 * Math.cos(5.57157235960 + 11.0457002639 * t);
-        X1 += 0.00096352822 * Math.cos(0.35070389084 + 63.7358983034 * t);
-        X1 += 0.00081511870 * Math.cos(1.21058618039 + 85.8272988312 * t);
-        X1 += 0.00045687564 * Math.cos(2.29216583843 + 138.5174968707 * t);
-        X1 += 0.00051382501 * Math.cos(2.18935125260 + 224.3447957019 * t);
-        X1 += 0.00038844330 * Math.cos(0.30724575951 + 70.8494453042 * t);
-        X1 += 0.00036158493 * Math.cos(1.23634798757 + 78.7137518304 * t);
-        X1 += 0.00032333094 * Math.cos(5.06666556704 + 74.7815985673 * t);
-        X1 += 0.00021685656 * Math.cos(4.93710968392 + 151.0476698429 * t);
-        X1 += 0.00019441970 * Math.cos(1.30617490304 + 77.7505439839 * t);
-        X1 += 0.00017376241 * Math.cos(0.24607221230 + 71.8126531507 * t);
-        X1 += 0.00015211071 * Math.cos(5.53141633140 + 3.9321532631 * t);
-        X1 += 0.00007735984 * Math.cos(1.61349552789 + 71.6002048296 * t);
-        X1 += 0.00007425078 * Math.cos(6.20357977116 + 77.962992305 * t);
-        X1 += 0.00006995857 * Math.cos(2.40633283814 + 145.6310438715 * t);
-        X1 += 0.00007291691 * Math.cos(2.23597571444 + 2.9689454166 * t);
-        X1 += 0.00007585264 * Math.cos(2.76074218330 + 148.0787244263 * t);
-        X1 += 0.00004378335 * Math.cos(3.74296322240 + 160.6088973985 * t);
-        X1 += 0.00004127713 * Math.cos(1.48475181305 + 22.0914005278 * t);
-        X1 += 0.00003933541 * Math.cos(4.73864204208 + 65.2203710117 * t);
-        X1 += 0.00002910312 * Math.cos(5.91941333050 + 127.4717966068 * t);
-        X1 += 0.00002788434 * Math.cos(4.90117297196 + 213.299095438 * t);
-        X1 += 0.00002802392 * Math.cos(3.76505436434 + 52.6901980395 * t);
-        X1 += 0.00002545264 * Math.cos(3.36768337628 + 9.5612275556 * t);
-        X1 += 0.00002647073 * Math.cos(4.53813176345 + 12.5301729722 * t);
-        X1 += 0.00003177614 * Math.cos(4.65226634926 + 299.1263942692 * t);
-        X1 += 0.00002228396 * Math.cos(0.18087986338 + 87.3117715395 * t);
-        X1 += 0.00002824668 * Math.cos(3.40143685673 + 84.3428261229 * t);
-        X1 += 0.00002525203 * Math.cos(2.83821144961 + 18.1592472647 * t);
-        X1 += 0.00002216987 * Math.cos(4.78338909951 + 72.3339180125 * t);
-        X1 += 0.00001624493 * Math.cos(3.75817281127 + 153.4953503977 * t);
-        X1 += 0.00001928881 * Math.cos(2.39940180311 + 39.6175083461 * t);
-        X1 += 0.00001555444 * Math.cos(4.13741667297 + 73.8183907208 * t);
-        X1 += 0.00001600865 * Math.cos(0.08376247543 + 79.2350166922 * t);
-        X1 += 0.00001476317 * Math.cos(3.67283851029 + 75.7448064138 * t);
-        X1 += 0.00001427088 * Math.cos(1.45690759014 + 70.3281804424 * t);
-        X1 += 0.00001533469 * Math.cos(3.71776498048 + 152.5321425512 * t);
-        X1 += 0.00001747266 * Math.cos(3.24870046809 + 77.2292791221 * t);
-        X1 += 0.00001716831 * Math.cos(3.39415662657 + 222.8603229936 * t);
-        X1 += 0.00001707504 * Math.cos(1.11296012106 + 225.8292684102 * t);
-        X1 += 0.00001734228 * Math.cos(5.39619902298 + 146.594251718 * t);
-        X1 += 0.00001476617 * Math.cos(3.53047075439 + 3.1813937377 * t);
-        X1 += 0.00001179645 * Math.cos(5.13953276367 + 220.4126424388 * t);
-        X1 += 0.00001239315 * Math.cos(0.98221206501 + 4.4534181249 * t);
-        X1 += 0.00001099691 * Math.cos(1.35138854505 + 62.2514255951 * t);
-        X1 += 0.00000977123 * Math.cos(1.01847642495 + 74.6697239827 * t);
-        X1 += 0.00000975571 * Math.cos(0.51903242150 + 74.8934731519 * t);
-        X1 += 0.00001061312 * Math.cos(5.00125105380 + 131.4039498699 * t);
-        X1 += 0.00000891654 * Math.cos(4.27405127452 + 426.598190876 * t);
-        X1 += 0.00001029261 * Math.cos(5.42434597865 + 109.9456887885 * t);
-        X1 += 0.00000868857 * Math.cos(2.79792544805 + 56.6223513026 * t);
-        X1 += 0.00000747420 * Math.cos(4.78455200239 + 92.940845832 * t);
-        X1 += 0.00000743194 * Math.cos(5.94179390589 + 206.1855484372 * t);
-        X1 += 0.00000828266 * Math.cos(3.32679639479 + 7.1135470008 * t);
-        X1 += 0.00000647136 * Math.cos(0.20307260484 + 80.1982245387 * t);
-        X1 += 0.00000720965 * Math.cos(0.28353896718 + 1.4844727083 * t);
-        X1 += 0.00000605458 * Math.cos(0.10335604387 + 1059.3819301892 * t);
-        X1 += 0.00000666117 * Math.cos(3.49754791028 + 96.8729990951 * t);
-        X1 += 0.00000575550 * Math.cos(2.42897662546 + 522.5774180938 * t);
-        X1 += 0.00000497791 * Math.cos(3.50054849965 + 137.0330241624 * t);
-        X1 += 0.00000563791 * Math.cos(1.91500933518 + 536.8045120954 * t);
-        X1 += 0.00000477254 * Math.cos(1.15791167960 + 41.1019810544 * t);
-        X1 += 0.00000452889 * Math.cos(1.09710482126 + 67.6680515665 * t);
-        X1 += 0.00000412572 * Math.cos(3.78953003468 + 66.70484372 * t);
-        X1 += 0.00000408503 * Math.cos(0.33951833274 + 81.8951455681 * t);
-        X1 += 0.00000369265 * Math.cos(4.73183141111 + 202.2533951741 * t);
-        X1 += 0.00000395742 * Math.cos(1.58893964955 + 14.977853527 * t);
-        X1 += 0.00000377813 * Math.cos(3.73353761428 + 2.4476805548 * t);
-        X1 += 0.00000347012 * Math.cos(6.15993155091 + 134.5853436076 * t);
-        X1 += 0.00000347209 * Math.cos(4.09740378576 + 146.3818033969 * t);
-        X1 += 0.00000346276 * Math.cos(3.88647750381 + 59.8037450403 * t);
-        X1 += 0.00000343714 * Math.cos(4.42446342755 + 142.4496501338 * t);
-        X1 += 0.00000294160 * Math.cos(4.42096282169 + 5.4166259714 * t);
-        X1 += 0.00000329148 * Math.cos(5.84103283969 + 112.9146342051 * t);
-        X1 += 0.00000340830 * Math.cos(1.84893689186 + 36.6485629295 * t);
-        X1 += 0.00000306476 * Math.cos(1.06590600726 + 33.6796175129 * t);
-        X1 += 0.00000275437 * Math.cos(4.10479793303 + 82.8583534146 * t);
-        X1 += 0.00000293125 * Math.cos(0.49846117327 + 145.1097790097 * t);
-        X1 += 0.00000254628 * Math.cos(6.25473678549 + 235.3904959658 * t);
-        X1 += 0.00000246505 * Math.cos(5.32024438086 + 159.1244246902 * t);
-        X1 += 0.00000249949 * Math.cos(0.67221714016 + 265.9892934775 * t);
-        X1 += 0.00000235773 * Math.cos(3.62653751252 + 20.6069278195 * t);
-        X1 += 0.00000217183 * Math.cos(4.25583219062 + 152.7445908723 * t);
-        X1 += 0.00000210343 * Math.cos(4.63336622628 + 140.001969579 * t);
-        X1 += 0.00000231137 * Math.cos(0.38954829748 + 108.4612160802 * t);
-        X1 += 0.00000183920 * Math.cos(5.05228486550 + 191.2076949102 * t);
-        X1 += 0.00000221484 * Math.cos(2.71939746995 + 195.1398481733 * t);
-        X1 += 0.00000192825 * Math.cos(0.45904824372 + 23.5758732361 * t);
-        X1 += 0.00000228031 * Math.cos(5.73832504591 + 297.6419215609 * t);
-        X1 += 0.00000181760 * Math.cos(1.50820819426 + 120.358249606 * t);
-        X1 += 0.00000160927 * Math.cos(4.77614458093 + 8.0767548473 * t);
-        X1 += 0.00000154383 * Math.cos(0.90699803576 + 288.0806940053 * t);
-        X1 += 0.00000164982 * Math.cos(6.03209867187 + 5.9378908332 * t);
-        X1 += 0.00000153438 * Math.cos(2.70088223137 + 162.0933701068 * t);
-        X1 += 0.00000191778 * Math.cos(0.83177362607 + 373.9079928365 * t);
-        X1 += 0.00000154090 * Math.cos(3.25708486897 + 14.0146456805 * t);
-        X1 += 0.00000177817 * Math.cos(2.38327279626 + 209.3669421749 * t);
-        X1 += 0.00000150916 * Math.cos(1.30817182471 + 69.3649725959 * t);
-        X1 += 0.00000143519 * Math.cos(5.80839382745 + 211.8146227297 * t);
-        X1 += 0.00000140612 * Math.cos(5.35931699754 + 29.2049475286 * t);
-        X1 += 0.00000141703 * Math.cos(2.64874298288 + 68.8437077341 * t);
-        X1 += 0.00000134614 * Math.cos(0.41866243813 + 39.3568759152 * t);
-        X1 += 0.00000140275 * Math.cos(5.15925110927 + 80.7194894005 * t);
-        X1 += 0.00000148005 * Math.cos(3.01901836595 + 186.2117600641 * t);
-        X1 += 0.00000138435 * Math.cos(0.38546052988 + 81.0013736908 * t);
-        X1 += 0.00000156471 * Math.cos(3.62049946715 + 116.4260963429 * t);
-        X1 += 0.00000142032 * Math.cos(4.72599483352 + 114.3991069134 * t);
-        X1 += 0.00000132979 * Math.cos(1.16919556561 + 68.5618234438 * t);
-        X1 += 0.00000132271 * Math.cos(3.93102400599 + 89.7594520943 * t);
-        X1 += 0.00000117645 * Math.cos(1.04577241570 + 277.0349937414 * t);
-        X1 += 0.00000115855 * Math.cos(3.50608314585 + 33.1371007917 * t);
-        X1 += 0.00000116656 * Math.cos(4.77768622576 + 99.1606209555 * t);
-        X1 += 0.00000118667 * Math.cos(0.97921601472 + 305.3461693927 * t);
-        X1 += 0.00000141195 * Math.cos(5.83532011809 + 45.5766510387 * t);
-        X1 += 0.00000124069 * Math.cos(1.48589888078 + 41.6444977756 * t);
-        X1 += 0.00000110901 * Math.cos(4.69277387714 + 51.2057253312 * t);
-        X1 += 0.00000119992 * Math.cos(2.88407866671 + 50.4025761791 * t);
-        X1 += 0.00000121041 * Math.cos(2.51714592201 + 154.0166152595 * t);
-        X1 += 0.00000109540 * Math.cos(5.23116357278 + 88.7962442478 * t);
-        X1 += 0.00000103214 * Math.cos(3.71629269070 + 144.1465711632 * t);
-        X1 += 0.00000103776 * Math.cos(2.10287854036 + 54.1746707478 * t);
-        X1 += 0.00000116279 * Math.cos(6.16263578313 + 227.3137411185 * t);
-        X1 += 0.00000122915 * Math.cos(3.57188972236 + 300.6108669775 * t);
-        X1 += 0.00000102736 * Math.cos(5.34763165471 + 152.0108776894 * t);
-        X1 += 0.00000091187 * Math.cos(1.10481193147 + 110.2063212194 * t);
-        X1 += 0.00000090202 * Math.cos(0.56709477474 + 125.9873238985 * t);
-        X1 += 0.00000081723 * Math.cos(6.27079297819 + 228.276948965 * t);
-        X1 += 0.00000084840 * Math.cos(6.21066793803 + 42.5864537627 * t);
-        X1 += 0.00000074095 * Math.cos(0.25759427545 + 148.5999892881 * t);
-        X1 += 0.00000074141 * Math.cos(6.12651413564 + 150.5264049811 * t);
-        X1 += 0.00000074651 * Math.cos(4.40519875592 + 128.9562693151 * t);
-        X1 += 0.00000081515 * Math.cos(2.33379448960 + 32.1951448046 * t);
-        X1 += 0.00000072988 * Math.cos(3.51945448127 + 639.897286314 * t);
-        X1 += 0.00000073276 * Math.cos(5.35840675742 + 95.3885263868 * t);
-        X1 += 0.00000072236 * Math.cos(1.94385727161 + 24.3790223882 * t);
-        X1 += 0.00000080037 * Math.cos(4.41743269825 + 6.2197751235 * t);
-        X1 += 0.00000067741 * Math.cos(0.23367851706 + 16.6747745564 * t);
-        X1 += 0.00000068101 * Math.cos(4.86711498571 + 28.5718080822 * t);
-        X1 += 0.00000071855 * Math.cos(2.40256356403 + 404.5067903482 * t);
-        X1 += 0.00000087580 * Math.cos(4.81265119187 + 419.4846438752 * t);
-        X1 += 0.00000071445 * Math.cos(1.52414424740 + 106.9767433719 * t);
-        X1 += 0.00000069920 * Math.cos(5.06695266595 + 230.5645708254 * t);
-        X1 += 0.00000069373 * Math.cos(4.50365511857 + 333.657345044 * t);
-        X1 += 0.00000068989 * Math.cos(2.68367160082 + 183.2428146475 * t);
-        X1 += 0.00000060705 * Math.cos(5.84738219849 + 70.1157321213 * t);
-        X1 += 0.00000060413 * Math.cos(2.93879448663 + 149.6750717192 * t);
-        X1 += 0.00000055718 * Math.cos(5.10108753250 + 79.4474650133 * t);
-        X1 += 0.00000056673 * Math.cos(0.54290172829 + 73.0846775379 * t);
-        X1 += 0.00000053588 * Math.cos(0.54527702807 + 329.7251917809 * t);
-        X1 += 0.00000055709 * Math.cos(0.10599541457 + 157.6399519819 * t);
-        X1 += 0.00000060943 * Math.cos(4.04427039342 + 347.8844390456 * t);
-        X1 += 0.00000052263 * Math.cos(1.22770416736 + 147.1155165798 * t);
-        X1 += 0.00000054800 * Math.cos(4.12258527812 + 76.4785195967 * t);
-        X1 += 0.00000053425 * Math.cos(4.48806957559 + 433.7117378768 * t);
-        X1 += 0.00000048631 * Math.cos(3.08750329574 + 68.1893164283 * t);
-        X1 += 0.00000052758 * Math.cos(1.71379465510 + 143.6253063014 * t);
-        X1 += 0.00000046174 * Math.cos(1.83537384705 + 7.8643065262 * t);
-        X1 += 0.00000056770 * Math.cos(1.76001621326 + 19.643719973 * t);
-        X1 += 0.00000043941 * Math.cos(4.22289924597 + 75.5323580927 * t);
-        X1 += 0.00000042882 * Math.cos(3.60953274952 + 74.0308390419 * t);
-        X1 += 0.00000043779 * Math.cos(1.34862437117 + 415.5524906121 * t);
-        X1 += 0.00000040257 * Math.cos(2.70866946307 + 154.979823106 * t);
-        X1 += 0.00000039553 * Math.cos(2.78953556992 + 258.8757464767 * t);
-        X1 += 0.00000041251 * Math.cos(1.57144664659 + 273.1028404783 * t);
-        X1 += 0.00000052956 * Math.cos(4.24304077012 + 66.9172920411 * t);
-        X1 += 0.00000037480 * Math.cos(4.69690532605 + 81.3738807063 * t);
-        X1 += 0.00000043331 * Math.cos(0.45599585462 + 1589.0728952838 * t);
-        X1 += 0.00000036051 * Math.cos(4.81417494173 + 135.5485514541 * t);
-        X1 += 0.00000037066 * Math.cos(2.17708105206 + 46.470422916 * t);
-        X1 += 0.00000034620 * Math.cos(2.54301868857 + 14.2270940016 * t);
-        X1 += 0.00000035447 * Math.cos(0.98545964791 + 167.7224443993 * t);
-        X1 += 0.00000033444 * Math.cos(3.72411302136 + 149.45132255 * t);
-        X1 += 0.00000040029 * Math.cos(1.96239968243 + 187.6962327724 * t);
-        X1 += 0.00000040824 * Math.cos(5.97303225818 + 340.7708920448 * t);
-        X1 += 0.00000037372 * Math.cos(0.21122306999 + 259.5088859231 * t);
-        X1 += 0.00000041612 * Math.cos(1.41361112597 + 58.1068240109 * t);
-        X1 += 0.00000031110 * Math.cos(1.73031491371 + 1052.2683831884 * t);
-        X1 += 0.00000029956 * Math.cos(2.57082015227 + 60.7669528868 * t);
-        X1 += 0.00000037429 * Math.cos(0.79282523594 + 73.88782669 * t);
-        X1 += 0.00000037429 * Math.cos(0.74498454647 + 75.6753704446 * t);
-        X1 += 0.00000031065 * Math.cos(1.71827695871 + 38.1330356378 * t);
-        X1 += 0.00000029298 * Math.cos(5.94882239894 + 141.6988906084 * t);
-        X1 += 0.00000029561 * Math.cos(5.69538037718 + 103.0927742186 * t);
-        X1 += 0.00000030708 * Math.cos(0.24881030437 + 72.4939767069 * t);
-        X1 += 0.00000030708 * Math.cos(1.28899947804 + 77.0692204277 * t);
-        X1 += 0.00000028875 * Math.cos(0.54752160834 + 28.3111756513 * t);
-        X1 += 0.00000031192 * Math.cos(4.12279339423 + 529.6909650946 * t);
-        X1 += 0.00000035363 * Math.cos(3.42227627978 + 82.6459050935 * t);
-        X1 += 0.00000029829 * Math.cos(2.34283213066 + 1066.49547719 * t);
-        X1 += 0.00000028113 * Math.cos(0.90670133000 + 295.1942410061 * t);
-        X1 += 0.00000029459 * Math.cos(3.07426083488 + 120.9913890524 * t);
-        X1 += 0.00000026709 * Math.cos(4.75598916376 + 43.2890291783 * t);
-        X1 += 0.00000030738 * Math.cos(5.90774706345 + 111.4301614968 * t);
-        X1 += 0.00000027631 * Math.cos(5.95830254498 + 6.592282139 * t);
-        X1 += 0.00000026884 * Math.cos(3.04057230046 + 219.891377577 * t);
-        X1 += 0.00000033927 * Math.cos(6.02713258404 + 171.6545976624 * t);
-        X1 += 0.00000031094 * Math.cos(2.39334686272 + 98.3574718034 * t);
-        X1 += 0.00000026658 * Math.cos(0.37099096339 + 217.2312487011 * t);
-        X1 += 0.00000023975 * Math.cos(5.91677137117 + 218.9281697305 * t);
-        X1 += 0.00000031513 * Math.cos(3.08220495699 + 221.3758502853 * t);
-        X1 += 0.00000026064 * Math.cos(6.25963849838 + 472.1748419147 * t);
-        X1 += 0.00000023869 * Math.cos(0.00423630284 + 57.255490749 * t);
-        X1 += 0.00000023509 * Math.cos(2.61626799404 + 47.6942631934 * t);
-        X1 += 0.00000026035 * Math.cos(0.51844176177 + 91.4563731237 * t);
-        X1 += 0.00000024834 * Math.cos(2.68780869865 + 25.2727942655 * t);
-        X1 += 0.00000029098 * Math.cos(2.94097567270 + 184.7272873558 * t);
-        X1 += 0.00000023343 * Math.cos(4.42888199279 + 61.448276443 * t);
-        X1 += 0.00000022926 * Math.cos(1.30160852920 + 233.9060232575 * t);
-        X1 += 0.00000023216 * Math.cos(4.09428674912 + 543.0242872189 * t);
-        X1 += 0.00000022288 * Math.cos(6.14795050219 + 227.5261894396 * t);
-        X1 += 0.00000021446 * Math.cos(3.17224618831 + 106.2741679563 * t);
-        X1 += 0.00000021268 * Math.cos(2.97922212711 + 554.0699874828 * t);
-        X1 += 0.00000024907 * Math.cos(5.76718730053 + 486.4019359163 * t);
-        X1 += 0.00000021433 * Math.cos(4.64123618296 + 19.1224551112 * t);
-        X1 += 0.00000020924 * Math.cos(2.76614931958 + 269.9214467406 * t);
-        X1 += 0.00000020909 * Math.cos(3.85974203870 + 67.3592350258 * t);
-        X1 += 0.00000022980 * Math.cos(4.90937541667 + 254.9435932136 * t);
-        X1 += 0.00000020201 * Math.cos(2.12417844647 + 468.2426886516 * t);
-        X1 += 0.00000020131 * Math.cos(3.77349880806 + 316.3918696566 * t);
-        X1 += 0.00000020847 * Math.cos(4.81409904565 + 7.4223635415 * t);
-        X1 += 0.00000019458 * Math.cos(4.76792603924 + 98.8999885246 * t);
-        X1 += 0.00000019604 * Math.cos(2.45797310689 + 17.2654753874 * t);
-        X1 += 0.00000018374 * Math.cos(3.12972828948 + 88.1149206916 * t);
-        X1 += 0.00000018710 * Math.cos(2.07002102692 + 69.6737891366 * t);
-        X1 += 0.00000018185 * Math.cos(1.53549222688 + 92.3077063856 * t);
-        X1 += 0.00000020526 * Math.cos(3.55883475114 + 115.8835796217 * t);
-        X1 += 0.00000017318 * Math.cos(3.58183814043 + 100.3844612329 * t);
-        X1 += 0.00000019680 * Math.cos(0.37692395289 + 296.1574488526 * t);
-        X1 += 0.00000023888 * Math.cos(6.03488135175 + 35.1640902212 * t);
-        X1 += 0.00000016772 * Math.cos(0.69703195542 + 210.3301500214 * t);
-        X1 += 0.00000017082 * Math.cos(5.75097380140 + 79.889407998 * t);
-        X1 += 0.00000016920 * Math.cos(5.76277101216 + 67.8804998876 * t);
-        X1 += 0.00000016712 * Math.cos(1.22647704720 + 55.6591434561 * t);
-        X1 += 0.00000017764 * Math.cos(2.75549341652 + 105.4922706636 * t);
-        X1 += 0.00000017983 * Math.cos(3.23076091926 + 151.260118164 * t);
-        X1 += 0.00000018460 * Math.cos(3.11251197292 + 35.4247226521 * t);
-        X1 += 0.00000017967 * Math.cos(3.88222144853 + 181.7583419392 * t);
-        X1 += 0.00000016331 * Math.cos(3.65716262733 + 94.4253185403 * t);
-        X1 += 0.00000016285 * Math.cos(5.57732210648 + 24.1183899573 * t);
-        X1 += 0.00000016506 * Math.cos(3.12748016927 + 76.42612997 * t);
-        X1 += 0.00000016506 * Math.cos(4.69351492032 + 73.1370671646 * t);
-        X1 += 0.00000015826 * Math.cos(3.12499527551 + 13.4933808187 * t);
-        X1 += 0.00000017227 * Math.cos(0.29402089847 + 13.3333221243 * t);
-        X1 += 0.00000017819 * Math.cos(0.27595854333 + 221.1634019642 * t);
-        X1 += 0.00000021162 * Math.cos(1.87088890253 + 372.4235201282 * t);
-        X1 += 0.00000016749 * Math.cos(1.45888449067 + 284.1485407422 * t);
-        X1 += 0.00000019283 * Math.cos(1.10096678754 + 479.2883889155 * t);
-        X1 += 0.00000018795 * Math.cos(0.86065812508 + 60.5545045657 * t);
-        X1 += 0.00000015261 * Math.cos(4.52180709793 + 397.3932433474 * t);
-        X1 += 0.00000016556 * Math.cos(5.58514879053 + 198.321241911 * t);
-        X1 += 0.00000014970 * Math.cos(3.72163026622 + 30.0562807905 * t);
-        X1 += 0.00000015636 * Math.cos(3.32592798239 + 173.9422195228 * t);
-        X1 += 0.00000014561 * Math.cos(3.11384969661 + 50.66320861 * t);
-        X1 += 0.00000015544 * Math.cos(4.96423459329 + 58.319272332 * t);
-        X1 += 0.00000014998 * Math.cos(0.09396760027 + 200.7689224658 * t);
-        X1 += 0.00000014725 * Math.cos(5.12312966582 + 135.336103133 * t);
-        X1 += 0.00000017061 * Math.cos(0.93145915427 + 184.0941479094 * t);
-        X1 += 0.00000014873 * Math.cos(3.56846085608 + 30.7106720963 * t);
-        X1 += 0.00000015380 * Math.cos(0.45042165283 + 16.4623262353 * t);
-        X1 += 0.00000014306 * Math.cos(2.43060361636 + 310.1720945331 * t);
-        X1 += 0.00000017345 * Math.cos(5.49233484735 + 260.9933586314 * t);
-        X1 += 0.00000013683 * Math.cos(3.92221116342 + 82.2039621088 * t);
-        X1 += 0.00000015207 * Math.cos(3.34962343405 + 411.620337349 * t);
-        X1 += 0.00000013968 * Math.cos(2.61772955404 + 61.2882177486 * t);
-        X1 += 0.00000013099 * Math.cos(2.01417422899 + 286.596221297 * t);
-        X1 += 0.00000013681 * Math.cos(4.97929425746 + 44.070926471 * t);
-        X1 += 0.00000013283 * Math.cos(2.82191824384 + 6.9010986797 * t);
-        X1 += 0.00000012983 * Math.cos(0.75249502704 + 173.6815870919 * t);
-        X1 += 0.00000016262 * Math.cos(1.99912523467 + 64.4866578288 * t);
-        X1 += 0.00000012734 * Math.cos(1.70208913039 + 74.2603337055 * t);
-        X1 += 0.00000012734 * Math.cos(2.97731330561 + 75.3028634291 * t);
-        X1 += 0.00000012701 * Math.cos(1.71027963895 + 57.5161231799 * t);
-        X1 += 0.00000017442 * Math.cos(2.80800083816 + 760.25553592 * t);
-        X1 += 0.00000015036 * Math.cos(1.86765123574 + 132.8884225782 * t);
-        X1 += 0.00000012678 * Math.cos(5.21255769594 + 81.682697247 * t);
-        X1 += 0.00000012959 * Math.cos(0.93518082353 + 133.1008708993 * t);
-        X1 += 0.00000012526 * Math.cos(3.61958368638 + 351.8165923087 * t);
-        X1 += 0.00000012334 * Math.cos(6.26259774480 + 632.7837393132 * t);
-        X1 += 0.00000012872 * Math.cos(3.95804014267 + 46.2097904851 * t);
-        X1 += 0.00000011855 * Math.cos(2.97019730282 + 267.4737661858 * t);
-        X1 += 0.00000014155 * Math.cos(2.86543106920 + 155.7829722581 * t);
-        X1 += 0.00000011443 * Math.cos(1.78051620224 + 32.2433289144 * t);
-        X1 += 0.00000012255 * Math.cos(2.52428870855 + 515.463871093 * t);
-        X1 += 0.00000012080 * Math.cos(5.16415823774 + 74.1272072615 * t);
-        X1 += 0.00000012080 * Math.cos(2.65683685185 + 75.4359898731 * t);
-        X1 += 0.00000011303 * Math.cos(0.93310421002 + 31.492569389 * t);
-        X1 += 0.00000013533 * Math.cos(5.82192605708 + 85.0765393058 * t);
-        X1 += 0.00000010738 * Math.cos(0.24602380813 + 93.9040536785 * t);
-        X1 += 0.00000010787 * Math.cos(6.01142464319 + 189.7232222019 * t);
-        X1 += 0.00000013828 * Math.cos(5.36493508915 + 31.6526280834 * t);
-        X1 += 0.00000013824 * Math.cos(4.23707962346 + 26.0235537909 * t);
-        X1 += 0.00000010459 * Math.cos(5.12191321154 + 144.8973306886 * t);
-        X1 += 0.00000010910 * Math.cos(2.91004182482 + 142.1408335931 * t);
-        X1 += 0.00000010123 * Math.cos(5.18571320702 + 236.8749686741 * t);
-        X1 += 0.00000011542 * Math.cos(4.18988776185 + 42.5382696529 * t);
-        X1 += 0.00000010460 * Math.cos(4.81590103862 + 692.5874843535 * t);
-        X1 += 0.00000013204 * Math.cos(3.50824637161 + 123.5396433437 * t);
-        X1 += 0.00000009836 * Math.cos(5.95244492576 + 681.5417840896 * t);
-        X1 += 0.00000009778 * Math.cos(5.72836796284 + 43.1289704839 * t);
-        X1 += 0.00000010652 * Math.cos(5.07486942549 + 124.2904028691 * t);
-        X1 += 0.00000010953 * Math.cos(0.56341673987 + 89.0086925689 * t);
-        X1 += 0.00000009978 * Math.cos(3.97784657700 + 214.7835681463 * t);
-        X1 += 0.00000010001 * Math.cos(1.25595884365 + 532.8723588323 * t);
-        X1 += 0.00000009832 * Math.cos(2.83131988231 + 54.3347294422 * t);
-        X1 += 0.00000009739 * Math.cos(5.28158188664 + 73.1852512744 * t);
-        X1 += 0.00000009739 * Math.cos(5.68100585654 + 76.3779458602 * t);
-        X1 += 0.00000009297 * Math.cos(3.79217857949 + 203.7378678824 * t);
-        X1 += 0.00000011679 * Math.cos(1.33060128320 + 48.7580447764 * t);
-        X1 += 0.00000009552 * Math.cos(1.19132306969 + 156.1554792736 * t);
-        X1 += 0.00000008972 * Math.cos(0.10072096939 + 27.0873353739 * t);
-        X1 += 0.00000011401 * Math.cos(1.59445531296 + 264.5048207692 * t);
-        X1 += 0.00000009556 * Math.cos(4.94813324338 + 196.6243208816 * t);
-        X1 += 0.00000008931 * Math.cos(1.75464198962 + 117.9105690512 * t);
-        X1 += 0.00000009144 * Math.cos(4.96253120483 + 44.7253177768 * t);
-        X1 += 0.00000010751 * Math.cos(1.19819066544 + 624.919432787 * t);
-        X1 += 0.00000010035 * Math.cos(3.29686320022 + 448.6895914038 * t);
-        X1 += 0.00000008947 * Math.cos(0.49097448474 + 141.4864422873 * t);
-        X1 += 0.00000008492 * Math.cos(1.04669089016 + 103.9865460959 * t);
-        X1 += 0.00000008396 * Math.cos(1.85274078285 + 610.6923387854 * t);
-        X1 += 0.00000008844 * Math.cos(5.13691622390 + 88.274979386 * t);
-        X1 += 0.00000008524 * Math.cos(4.93963929817 + 17.5261078183 * t);
-        X1 += 0.00000008157 * Math.cos(1.41280346613 + 163.5778428151 * t);
-        X1 += 0.00000009170 * Math.cos(0.18882338324 + 685.4739373527 * t);
-        X1 += 0.00000009000 * Math.cos(4.32410050104 + 210.8514148832 * t);
-        X1 += 0.00000008372 * Math.cos(4.15532894311 + 218.4069048687 * t);
-        X1 += 0.00000008521 * Math.cos(1.30623024759 + 155.5010879678 * t);
-        X1 += 0.00000009137 * Math.cos(2.66521611116 + 617.8058857862 * t);
-        X1 += 0.00000007785 * Math.cos(1.91600387357 + 177.8743727859 * t);
-        X1 += 0.00000008263 * Math.cos(1.79382771123 + 543.9180590962 * t);
-        X1 += 0.00000009949 * Math.cos(6.00066057789 + 129.9194771616 * t);
-        X1 += 0.00000007808 * Math.cos(3.50087426378 + 47.061123747 * t);
-        X1 += 0.00000007420 * Math.cos(3.41076837074 + 130.4407420234 * t);
-        X1 += 0.00000007378 * Math.cos(5.84270209088 + 109.3125493421 * t);
-        X1 += 0.00000007443 * Math.cos(5.63786026620 + 175.1660598002 * t);
-        X1 += 0.00000008741 * Math.cos(4.78640084032 + 58.7399634573 * t);
-        X1 += 0.00000008402 * Math.cos(1.60812206860 + 79.5169009825 * t);
-        X1 += 0.00000008402 * Math.cos(6.21287302099 + 70.0462961521 * t);
-        X1 += 0.00000008695 * Math.cos(3.86773796124 + 193.655375465 * t);
-        X1 += 0.00000007159 * Math.cos(3.97508715690 + 606.7601855223 * t);
-        X1 += 0.00000007067 * Math.cos(6.12746401004 + 949.1756089698 * t);
-        X1 += 0.00000006973 * Math.cos(2.38105652541 + 162.8965192589 * t);
-        X1 += 0.00000008045 * Math.cos(2.56499806459 + 40.1600250673 * t);
-        X1 += 0.00000006997 * Math.cos(4.11367019220 + 119.5069163441 * t);
-        X1 += 0.00000006780 * Math.cos(0.88290624842 + 71.1582618449 * t);
-        X1 += 0.00000006780 * Math.cos(0.65490353399 + 78.4049352897 * t);
-        X1 += 0.00000006651 * Math.cos(3.56933431950 + 107.4980082337 * t);
-        X1 += 0.00000008439 * Math.cos(2.97298949766 + 180.1619946463 * t);
-        X1 += 0.00000007040 * Math.cos(0.16766290094 + 393.4610900843 * t);
-        X1 += 0.00000008809 * Math.cos(4.60479111456 + 114.9416236346 * t);
-        X1 += 0.00000007093 * Math.cos(2.52722254009 + 118.8737768977 * t);
-        X1 += 0.00000006803 * Math.cos(4.98967084497 + 95.2284676924 * t);
-        X1 += 0.00000006807 * Math.cos(6.00403663073 + 199.0720014364 * t);
-        X1 += 0.00000006562 * Math.cos(5.82462474242 + 117.3198682202 * t);
-        X1 += 0.00000008202 * Math.cos(1.70137039976 + 192.6921676185 * t);
-        X1 += 0.00000006537 * Math.cos(2.99785157074 + 362.8622925726 * t);
-        X1 += 0.00000006391 * Math.cos(5.70439630334 + 49.7212526229 * t);
-        X1 += 0.00000006512 * Math.cos(5.96135741097 + 97.4155158163 * t);
-        X1 += 0.00000006196 * Math.cos(3.54421587297 + 381.0909758065 * t);
-        X1 += 0.00000006196 * Math.cos(5.54176074629 + 528.7277572481 * t);
-        X1 += 0.00000007620 * Math.cos(3.73538335649 + 55.1378785943 * t);
-        X1 += 0.00000006877 * Math.cos(3.44957142724 + 207.8824694666 * t);
-        X1 += 0.00000006080 * Math.cos(5.07669365981 + 530.6541729411 * t);
-        X1 += 0.00000006080 * Math.cos(4.00928242865 + 379.1645601135 * t);
-        X1 += 0.00000007068 * Math.cos(3.30282189087 + 526.5095713569 * t);
-        X1 += 0.00000006022 * Math.cos(1.31297053546 + 105.380396079 * t);
-        X1 += 0.00000006631 * Math.cos(3.99124846968 + 34.5309507748 * t);
-        X1 += 0.00000006319 * Math.cos(3.57711620849 + 143.3434220111 * t);
-        X1 += 0.00000006650 * Math.cos(4.28063379650 + 454.9093665273 * t);
-        X1 += 0.00000006837 * Math.cos(6.06157563262 + 375.3924655448 * t);
-        X1 += 0.00000005881 * Math.cos(4.60273440786 + 405.9912630565 * t);
-        X1 += 0.00000005969 * Math.cos(0.03112902827 + 535.9107402181 * t);
-        X1 += 0.00000005863 * Math.cos(5.60462702771 + 107.918699359 * t);
-        X1 += 0.00000006744 * Math.cos(1.08073706710 + 27.7204748203 * t);
-        X1 += 0.00000006308 * Math.cos(0.34505692022 + 831.1049812242 * t);
-        X1 += 0.00000005516 * Math.cos(2.08339680294 + 232.4215505492 * t);
-        X1 += 0.00000005840 * Math.cos(4.74275994750 + 29.226199388 * t);
-        X1 += 0.00000005532 * Math.cos(0.31891843882 + 164.5410506616 * t);
-        X1 += 0.00000006345 * Math.cos(2.71755172801 + 91.2439248026 * t);
-        X1 += 0.00000005822 * Math.cos(4.31260736618 + 301.4140161296 * t);
-        X1 += 0.00000005587 * Math.cos(5.40846346381 + 125.1841747464 * t);
-        X1 += 0.00000006604 * Math.cos(3.03527526051 + 90.8232336773 * t);
-        X1 += 0.00000005425 * Math.cos(0.16380669642 + 76.154196691 * t);
-        X1 += 0.00000005425 * Math.cos(4.51559573958 + 73.4090004436 * t);
-        X1 += 0.00000005757 * Math.cos(2.28671638418 + 408.4389436113 * t);
-        X1 += 0.00000005414 * Math.cos(0.23481115779 + 16.04163511 * t);
-        X1 += 0.00000005498 * Math.cos(5.01400832025 + 142.6620984549 * t);
-        X1 += 0.00000006300 * Math.cos(5.07868286422 + 550.1378342197 * t);
-        X1 += 0.00000005290 * Math.cos(6.25206773025 + 210.1177017003 * t);
-        X1 += 0.00000005252 * Math.cos(4.37461363945 + 49.1787359017 * t);
-        X1 += 0.00000005259 * Math.cos(5.53089870357 + 31.2319369581 * t);
-        X1 += 0.00000005177 * Math.cos(2.42408915707 + 34.62157350 * t);
-        X1 += 0.00000005117 * Math.cos(4.27503491473 + 114.1384744825 * t);
-        X1 += 0.00000004984 * Math.cos(0.86380095341 + 312.4597163935 * t);
-        X1 += 0.00000006222 * Math.cos(1.16391286215 + 336.8387387817 * t);
-        X1 += 0.00000005039 * Math.cos(0.49473492002 + 22.633917249 * t);
-        X1 += 0.00000005371 * Math.cos(2.46932051435 + 293.7097682978 * t);
-        X1 += 0.00000005874 * Math.cos(0.96815943251 + 406.1031376411 * t);
-        X1 += 0.00000005033 * Math.cos(2.55869165354 + 234.4967240885 * t);
-        X1 += 0.00000005168 * Math.cos(2.97658265378 + 147.8662761052 * t);
-        X1 += 0.00000004740 * Math.cos(2.89577409389 + 853.196381752 * t);
-        X1 += 0.00000006514 * Math.cos(2.35520859919 + 302.0953396858 * t);
-        X1 += 0.00000004810 * Math.cos(0.69226746482 + 59.2824801785 * t);
-        X1 += 0.00000004541 * Math.cos(4.53731690208 + 92.0470739547 * t);
-        X1 += 0.00000004506 * Math.cos(4.68118426392 + 100.0543928328 * t);
-        X1 += 0.00000004623 * Math.cos(6.18668496930 + 344.7030453079 * t);
-        X1 += 0.00000005577 * Math.cos(5.54543388365 + 237.6781178262 * t);
-        X1 += 0.00000005453 * Math.cos(4.06894870256 + 232.0490435337 * t);
-        X1 += 0.00000004872 * Math.cos(4.69587056338 + 35.685355083 * t);
-        X1 += 0.00000004545 * Math.cos(1.88214672059 + 52.1476813183 * t);
-        X1 += 0.00000005548 * Math.cos(3.25810309156 + 403.0223176399 * t);
-        X1 += 0.00000004290 * Math.cos(3.91220944048 + 257.3912737684 * t);
-        X1 += 0.00000004254 * Math.cos(1.62798817507 + 328.2407190726 * t);
-        X1 += 0.00000004307 * Math.cos(4.56309542115 + 122.4758617607 * t);
-        X1 += 0.00000004374 * Math.cos(3.42742741782 + 323.5054166574 * t);
-        X1 += 0.00000004254 * Math.cos(3.62114251757 + 749.2098356561 * t);
-        X1 += 0.00000004326 * Math.cos(2.46450995798 + 422.6660376129 * t);
-        X1 += 0.00000004193 * Math.cos(3.82664074676 + 756.3233826569 * t);
-        X1 += 0.00000004196 * Math.cos(3.75281529760 + 221.8971151471 * t);
-        X1 += 0.00000004188 * Math.cos(5.43602058182 + 450.9772132642 * t);
-        X1 += 0.00000004590 * Math.cos(2.50743217001 + 767.3690829208 * t);
-        X1 += 0.00000004383 * Math.cos(3.97195747597 + 103.3534066495 * t);
-        X1 += 0.00000005092 * Math.cos(1.83697233633 + 376.9463742223 * t);
-        X1 += 0.00000004132 * Math.cos(1.46552725443 + 518.6452648307 * t);
-        X1 += 0.00000004221 * Math.cos(5.71365076183 + 40.5807161926 * t);
-        X1 += 0.00000004161 * Math.cos(3.08173290170 + 43.5496616092 * t);
-        X1 += 0.00000004217 * Math.cos(1.51515332931 + 124.5028511902 * t);
-        X1 += 0.00000004570 * Math.cos(0.27475223192 + 335.1418177523 * t);
-        X1 += 0.00000004424 * Math.cos(5.04632900852 + 101.8689339412 * t);
-        X1 += 0.00000004462 * Math.cos(4.10707023296 + 166.828672522 * t);
-        X1 += 0.00000005595 * Math.cos(2.82323309803 + 322.6116447801 * t);
-        X1 += 0.00000004209 * Math.cos(2.59829196504 + 271.61836777 * t);
-        X1 += 0.00000004223 * Math.cos(5.84608335181 + 332.1728723357 * t);
-        X1 += 0.00000004130 * Math.cos(5.90033316568 + 380.12776796 * t);
-        X1 += 0.00000005655 * Math.cos(0.58180438062 + 44.0921783304 * t);
-        X1 += 0.00000004345 * Math.cos(4.06258042881 + 49.6518166537 * t);
-        X1 += 0.00000004767 * Math.cos(4.96873316993 + 280.9671470045 * t);
-        X1 += 0.00000005029 * Math.cos(0.85996015450 + 189.1807054807 * t);
-        X1 += 0.00000005167 * Math.cos(3.49590720572 + 107.0249274817 * t);
-        X1 += 0.00000004072 * Math.cos(0.90732377696 + 319.5732633943 * t);
-        X1 += 0.00000004979 * Math.cos(1.20868922303 + 913.7508863177 * t);
-        X1 += 0.00000004154 * Math.cos(1.32035665964 + 170.1701249541 * t);
-        X1 += 0.00000004195 * Math.cos(5.10670456809 + 383.3091616977 * t);
-        X1 += 0.00000004651 * Math.cos(5.36764353188 + 827.9235874865 * t);
-        X1 += 0.00000004391 * Math.cos(5.26620078093 + 449.2802922348 * t);
-        X1 += 0.00000004251 * Math.cos(0.17351063134 + 248.7238180901 * t);
-        X1 += 0.00000004303 * Math.cos(2.59827089280 + 339.2864193365 * t);
-        X1 += 0.00000005421 * Math.cos(2.42482990878 + 49.5088043018 * t);
-        X1 += 0.00000004372 * Math.cos(5.90210524291 + 595.8745439528 * t);
-        X1 += 0.00000004319 * Math.cos(5.38446577684 + 610.1016379544 * t);
-        X1 += 0.00000003871 * Math.cos(1.71107021316 + 195.7729876197 * t);
-        X1 += 0.00000004570 * Math.cos(5.48308136143 + 25.0603459444 * t);
-        X1 += 0.00000004417 * Math.cos(3.95107732707 + 302.3772239761 * t);
-        X1 += 0.00000004053 * Math.cos(5.74857415364 + 121.8427223143 * t);
-        X1 += 0.00000004480 * Math.cos(5.83144216082 + 30.5987975117 * t);
-        X1 += 0.00000004503 * Math.cos(5.54195257014 + 223.4510238246 * t);
-        X1 += 0.00000003991 * Math.cos(1.28311117198 + 226.7924762567 * t);
-        X1 += 0.00000003925 * Math.cos(4.97969700029 + 136.0698163159 * t);
-        X1 += 0.00000004783 * Math.cos(2.94910756347 + 763.4369296577 * t);
-        X1 += 0.00000004002 * Math.cos(3.56106680884 + 1887.3055176757 * t);
-        X1 += 0.00000003692 * Math.cos(1.41758603082 + 219.5188705615 * t);
-        X1 += 0.00000003641 * Math.cos(1.43628154308 + 820.0592809603 * t);
-        X1 += 0.00000003829 * Math.cos(2.80943361629 + 331.2096644892 * t);
-        X1 += 0.00000004228 * Math.cos(6.06023136808 + 349.3689117539 * t);
-        X1 += 0.00000004291 * Math.cos(4.80060249860 + 463.5073862364 * t);
-        X1 += 0.00000003577 * Math.cos(3.51951033453 + 647.0108333148 * t);
-        X1 += 0.00000004508 * Math.cos(1.23637888737 + 275.5505210331 * t);
-        X1 += 0.00000003813 * Math.cos(0.29413995146 + 457.8783119439 * t);
-        X1 += 0.00000004520 * Math.cos(2.66865635036 + 21.1976286505 * t);
-        X1 += 0.00000004808 * Math.cos(5.17813277461 + 842.1506814881 * t);
-        X1 += 0.00000003594 * Math.cos(2.39944522659 + 757.8078553652 * t);
-        X1 += 0.00000004076 * Math.cos(1.44622169070 + 487.8864086246 * t);
-        X1 += 0.00000003617 * Math.cos(2.10676407474 + 310.9752436852 * t);
-        X1 += 0.00000003497 * Math.cos(0.21989673558 + 39.0962434843 * t);
-        X1 += 0.00000004073 * Math.cos(2.34392479937 + 303.8616966844 * t);
-        X1 += 0.00000003713 * Math.cos(4.67119374021 + 906.849787638 * t);
-        X1 += 0.00000004431 * Math.cos(1.66761109039 + 180.2738692309 * t);
-        X1 += 0.00000003556 * Math.cos(3.06018698393 + 501.3797894433 * t);
-        X1 += 0.00000003866 * Math.cos(0.39317068403 + 511.5317178299 * t);
-        X1 += 0.00000003594 * Math.cos(0.32134026487 + 705.1176573257 * t);
-        X1 += 0.00000003846 * Math.cos(6.01710266339 + 253.4591205053 * t);
-        X1 += 0.00000003788 * Math.cos(0.87966092565 + 909.8187330546 * t);
-        X1 += 0.00000003919 * Math.cos(2.25929240862 + 204.7010757289 * t);
-        X1 += 0.00000004009 * Math.cos(2.40455671219 + 1512.8068240082 * t);
-        X1 += 0.00000003398 * Math.cos(2.96372505035 + 547.8502123593 * t);
-        X1 += 0.00000003348 * Math.cos(1.29908274068 + 672.1406152284 * t);
-        X1 += 0.00000003556 * Math.cos(3.61703502565 + 1368.660252845 * t);
-        X1 += 0.00000003799 * Math.cos(1.16778290729 + 735.8765135318 * t);
-        X1 += 0.00000003799 * Math.cos(4.51126065072 + 328.3525936572 * t);
-        X1 += 0.00000004017 * Math.cos(1.13962547504 + 442.7517005706 * t);
-        X1 += 0.00000003347 * Math.cos(5.43291318939 + 10021.8372800994 * t);
-        X1 += 0.00000003338 * Math.cos(2.31470330186 + 89.9719004154 * t);
-        X1 += 0.00000003390 * Math.cos(2.85111866429 + 1050.7839104801 * t);
-        X1 += 0.00000003929 * Math.cos(0.50815651093 + 1317.5069171405 * t);
-        X1 += 0.00000003279 * Math.cos(6.13069875648 + 260.360219185 * t);
-        X1 += 0.00000003275 * Math.cos(3.69539670729 + 184.9879197867 * t);
-        X1 += 0.00000003635 * Math.cos(5.93838955300 + 342.2553647531 * t);
-        X1 += 0.00000003470 * Math.cos(4.38416040172 + 1067.9799498983 * t);
-        X1 += 0.00000003246 * Math.cos(4.22018785464 + 30.6894202369 * t);
-        X1 += 0.00000004053 * Math.cos(0.36617667414 + 229.0800981171 * t);
-        X1 += 0.00000003189 * Math.cos(1.16801935319 + 374.7111419886 * t);
-        X1 += 0.00000003414 * Math.cos(3.86440731923 + 25.6028626656 * t);
-        X1 += 0.00000003217 * Math.cos(0.12820891378 + 34.2008823747 * t);
-        X1 += 0.00000003560 * Math.cos(2.60404464111 + 781.5961769224 * t);
-        X1 += 0.00000003415 * Math.cos(2.81637195671 + 630.3360587584 * t);
-        X1 += 0.00000003360 * Math.cos(0.15525313851 + 370.0452755426 * t);
-        X1 += 0.00000003190 * Math.cos(4.54846044482 + 555.5544601911 * t);
-        X1 += 0.00000003942 * Math.cos(1.29262318233 + 728.762966531 * t);
-        X1 += 0.00000003249 * Math.cos(2.10483095182 + 683.9894646444 * t);
-        X1 += 0.00000003292 * Math.cos(1.11690233393 + 2424.1100297711 * t);
-        X1 += 0.00000004018 * Math.cos(4.06464228328 + 758.7710632117 * t);
-        X1 += 0.00000003393 * Math.cos(1.72164643720 + 291.1190753911 * t);
-        X1 += 0.00000003177 * Math.cos(0.19535441493 + 194.2885149114 * t);
-        X1 += 0.00000003163 * Math.cos(0.64155462640 + 348.8476468921 * t);
-        X1 += 0.00000003506 * Math.cos(1.64839531939 + 51.8870488874 * t);
-        X1 += 0.00000003074 * Math.cos(3.55945823491 + 216.4804891757 * t);
-        X1 += 0.00000003400 * Math.cos(4.67887517916 + 995.6460318858 * t);
-        X1 += 0.00000003647 * Math.cos(5.40830199356 + 290.2195580194 * t);
-        X1 += 0.00000003048 * Math.cos(1.14769098014 + 1303.2798231389 * t);
-        X1 += 0.00000004227 * Math.cos(1.64069494312 + 480.7728616238 * t);
-        X1 += 0.00000003533 * Math.cos(0.57957961089 + 332.8060117821 * t);
-        X1 += 0.00000003015 * Math.cos(3.89417585654 + 1053.7528558967 * t);
-        X1 += 0.00000004080 * Math.cos(0.80320966998 + 470.6903692064 * t);
-        X1 += 0.00000003255 * Math.cos(3.12460739752 + 113.8778420516 * t);
-        X1 += 0.00000003737 * Math.cos(0.36607689746 + 5983.9494557222 * t);
-        X1 += 0.00000004072 * Math.cos(3.51391687030 + 402.2191684878 * t);
-        X1 += 0.00000003302 * Math.cos(1.28184038619 + 532.1386456494 * t);
-        X1 += 0.00000004089 * Math.cos(5.55409021925 + 1264.816719101 * t);
-        X1 += 0.00000002960 * Math.cos(1.72708071261 + 15.4991183888 * t);
-        X1 += 0.00000002896 * Math.cos(4.37620553870 + 95.9792272178 * t);
-        X1 += 0.00000003638 * Math.cos(0.63261201547 + 601.5036182453 * t);
-        X1 += 0.00000002872 * Math.cos(4.41744820869 + 384.0599212231 * t);
-        X1 += 0.00000002873 * Math.cos(4.16082568297 + 192.8040422031 * t);
-        X1 += 0.00000003359 * Math.cos(4.95035468643 + 228.7982138268 * t);
-        X1 += 0.00000003034 * Math.cos(3.89748087769 + 696.5196376166 * t);
-        X1 += 0.00000002831 * Math.cos(4.73243294784 + 106.0135355254 * t);
-        X1 += 0.00000002904 * Math.cos(4.01411287559 + 90.2807169561 * t);
-        X1 += 0.00000002802 * Math.cos(1.37429211436 + 674.4282370888 * t);
-        X1 += 0.00000002786 * Math.cos(2.73392004399 + 594.9113361063 * t);
-        X1 += 0.00000002784 * Math.cos(1.57292650857 + 531.978586955 * t);
-        X1 += 0.00000003407 * Math.cos(5.90631625650 + 293.188503436 * t);
-        X1 += 0.00000003627 * Math.cos(3.21932712073 + 156.6767441354 * t);
-        X1 += 0.00000003773 * Math.cos(4.08447014502 + 358.0363674322 * t);
-        X1 += 0.00000003186 * Math.cos(4.09159297487 + 1440.9941708575 * t);
-        X1 += 0.00000002758 * Math.cos(1.23813964293 + 280.2163874791 * t);
-        X1 += 0.00000003504 * Math.cos(1.78948704996 + 9914.1591519418 * t);
-        X1 += 0.00000003472 * Math.cos(2.67146862670 + 296.7481496836 * t);
-        X1 += 0.00000003442 * Math.cos(3.60665744056 + 689.4060906158 * t);
-        X1 += 0.00000002947 * Math.cos(5.46192054865 + 818.574808252 * t);
-        X1 += 0.00000003345 * Math.cos(2.10061200490 + 1598.474064145 * t);
-        X1 += 0.00000002830 * Math.cos(1.34921944342 + 121.2520214833 * t);
-        X1 += 0.00000002757 * Math.cos(3.23219311957 + 417.0369633204 * t);
-        X1 += 0.00000003390 * Math.cos(4.67266294758 + 1471.0022675382 * t);
-        X1 += 0.00000002855 * Math.cos(5.71772374100 + 48.9181034708 * t);
-        X1 += 0.00000002740 * Math.cos(5.58500315091 + 395.9087706391 * t);
-        X1 += 0.00000002998 * Math.cos(5.17106934197 + 432.8179659995 * t);
-        X1 += 0.00000002900 * Math.cos(1.82862476718 + 298.2326223919 * t);
-        X1 += 0.00000003474 * Math.cos(5.73771635165 + 1065.6017053127 * t);
-        X1 += 0.00000003348 * Math.cos(2.15893228485 + 969.6224780949 * t);
-        X1 += 0.00000002777 * Math.cos(3.99928366015 + 32.7164096664 * t);
-        X1 += 0.00000002898 * Math.cos(6.21680044789 + 100.8051523582 * t);
-        X1 += 0.00000003716 * Math.cos(2.25787808273 + 668.2084619653 * t);
-        X1 += 0.00000003001 * Math.cos(3.17957379483 + 215.4379594521 * t);
-        X1 += 0.00000002786 * Math.cos(5.73888329772 + 350.3321196004 * t);
-        X1 += 0.00000002748 * Math.cos(3.42529326270 + 1065.0110044817 * t);
-        X1 += 0.00000002951 * Math.cos(4.98034050783 + 255.8373650909 * t);
-        X1 += 0.00000002808 * Math.cos(3.92417119747 + 104.0077979553 * t);
-        X1 += 0.00000003108 * Math.cos(6.28115439587 + 626.4039054953 * t);
-        X1 += 0.00000002648 * Math.cos(5.64217999071 + 745.277682393 * t);
-        X1 += 0.00000002693 * Math.cos(0.64719337286 + 12491.3701014155 * t);
-        X1 += 0.00000003649 * Math.cos(4.93104386608 + 469.7271613599 * t);
-        X1 += 0.00000002881 * Math.cos(3.68590589176 + 369.9758395734 * t);
-        X1 += 0.00000002719 * Math.cos(2.97795482524 + 188.0263011725 * t);
-        X1 += 0.00000002837 * Math.cos(0.47528515487 + 484.917463208 * t);
-        X1 += 0.00000003591 * Math.cos(0.47810594324 + 1062.3508756058 * t);
-        X1 += 0.00000002768 * Math.cos(6.23503099225 + 384.5811860849 * t);
-        X1 += 0.00000003124 * Math.cos(5.91112116900 + 384.2723695442 * t);
-        X1 += 0.00000002896 * Math.cos(1.09307446307 + 632.0329797878 * t);
-        X1 += 0.00000002876 * Math.cos(2.89367499074 + 6058.7310542895 * t);
-        X1 += 0.00000002580 * Math.cos(3.84884795844 + 461.1291416508 * t);
-        X1 += 0.00000002805 * Math.cos(2.02060190838 + 2111.6503133776 * t);
-        X1 += 0.00000002562 * Math.cos(6.21096468054 + 657.1627617014 * t);
-        X1 += 0.00000002741 * Math.cos(5.92551190768 + 548.4409131903 * t);
-        X1 += 0.00000002864 * Math.cos(2.93732003045 + 637.4496057592 * t);
-        X1 += 0.00000002511 * Math.cos(2.72212219874 + 1258.4539316256 * t);
-        X1 += 0.00000002606 * Math.cos(4.16927672027 + 390.2102603774 * t);
-        X1 += 0.00000002522 * Math.cos(4.54786028172 + 115.3623147599 * t);
-        X1 += 0.00000002644 * Math.cos(6.03426038864 + 525.2375469697 * t);
-        X1 += 0.00000003075 * Math.cos(2.01414173991 + 980.6681783588 * t);
-        X1 += 0.00000002907 * Math.cos(2.53866072765 + 620.253566341 * t);
-        X1 += 0.00000002493 * Math.cos(1.94336313048 + 916.9322800554 * t);
-        X1 += 0.00000002474 * Math.cos(4.49620359206 + 699.7010313543 * t);
-        X1 += 0.00000002890 * Math.cos(3.31566105811 + 361.3778198643 * t);
-        X1 += 0.00000002663 * Math.cos(1.46195985219 + 591.9423906897 * t);
-        X1 += 0.00000002497 * Math.cos(1.78580918376 + 628.8515860501 * t);
-        X1 += 0.00000003001 * Math.cos(3.83591213005 + 1812.5239191084 * t);
-        X1 += 0.00000003222 * Math.cos(0.65043581113 + 420.9691165835 * t);
-        X1 += 0.00000002497 * Math.cos(2.08712349497 + 108.982480942 * t);
-        X1 += 0.00000002811 * Math.cos(1.62447795577 + 604.4725636619 * t);
-        X1 += 0.00000003182 * Math.cos(2.56721794097 + 256.4280659219 * t);
-        X1 += 0.00000002714 * Math.cos(0.34980714047 + 833.552661779 * t);
-        X1 += 0.00000002442 * Math.cos(0.23526085974 + 765.8846102125 * t);
-        X1 += 0.00000003142 * Math.cos(4.57297454509 + 436.7501192626 * t);
-        X1 += 0.00000002680 * Math.cos(4.31504164134 + 9988.9407505091 * t);
-        X1 += 0.00000002529 * Math.cos(2.60083470938 + 2498.8916283384 * t);
-        X1 += 0.00000002610 * Math.cos(0.08192500265 + 159.7151255212 * t);
-        X1 += 0.00000003280 * Math.cos(5.51102642240 + 956.2891559706 * t);
-        X1 += 0.00000002590 * Math.cos(3.99630297144 + 391.1734682239 * t);
-        X1 += 0.00000002409 * Math.cos(5.18535928834 + 1228.4982245716 * t);
-        X1 += 0.00000002438 * Math.cos(5.72336756326 + 894.8408795276 * t);
-        X1 += 0.00000002850 * Math.cos(0.83031157343 + 947.5310775671 * t);
-        X1 += 0.00000002345 * Math.cos(2.77739119531 + 533.6231183577 * t);
-        X1 += 0.00000002657 * Math.cos(3.45458545922 + 623.2225117576 * t);
-        X1 += 0.00000002353 * Math.cos(5.45605657739 + 74.5691502462 * t);
-        X1 += 0.00000002353 * Math.cos(5.50653116579 + 74.9940468884 * t);
-        X1 += 0.00000002792 * Math.cos(4.78307547656 + 1288.4620283063 * t);
-        X1 += 0.00000003121 * Math.cos(2.37991695182 + 609.2078660771 * t);
-        X1 += 0.00000002677 * Math.cos(2.36907350580 + 241.6102710893 * t);
-        X1 += 0.00000002390 * Math.cos(1.94030205457 + 843.6351541964 * t);
-        X1 += 0.00000002596 * Math.cos(1.91979793854 + 595.7144852584 * t);
-        X1 += 0.00000002308 * Math.cos(0.01956189175 + 369.0820676961 * t);
-        X1 += 0.00000002976 * Math.cos(4.98106512922 + 80.4106728598 * t);
-        X1 += 0.00000002378 * Math.cos(2.81529995511 + 223.3815878554 * t);
-        X1 += 0.00000002292 * Math.cos(4.26962421467 + 546.956440482 * t);
-        X1 += 0.00000003185 * Math.cos(1.62941934430 + 582.3811631341 * t);
-        X1 += 0.00000002664 * Math.cos(5.08255284594 + 761.7400086283 * t);
-        X1 += 0.00000002676 * Math.cos(2.05300313239 + 409.9234163196 * t);
-        X1 += 0.00000002562 * Math.cos(0.42035638498 + 450.4559484024 * t);
-        X1 += 0.00000002320 * Math.cos(1.17670422596 + 246.9787129509 * t);
-        X1 += 0.00000002416 * Math.cos(3.72195483988 + 612.1768114937 * t);
-        X1 += 0.00000002997 * Math.cos(1.26526670860 + 370.5665404044 * t);
-        X1 += 0.00000002330 * Math.cos(6.08434326856 + 846.0828347512 * t);
-        X1 += 0.00000002420 * Math.cos(3.12157994295 + 252.6559713532 * t);
-        X1 += 0.00000002679 * Math.cos(1.61397900182 + 1336.4169239306 * t);
-        X1 += 0.00000002893 * Math.cos(0.56010064090 + 439.782755154 * t);
-        X1 += 0.00000002718 * Math.cos(1.31145316870 + 479.4002635001 * t);
-        X1 += 0.00000002612 * Math.cos(0.99380221309 + 3116.2676309979 * t);
-        X1 += 0.00000002223 * Math.cos(1.90165447185 + 53.5839699168 * t);
-        X1 += 0.00000002352 * Math.cos(1.36626479610 + 1239.5439248355 * t);
-        X1 += 0.00000002224 * Math.cos(3.45165547622 + 531.1754378029 * t);
-        X1 += 0.00000002418 * Math.cos(5.06040722485 + 346.3999663373 * t);
-        X1 += 0.00000002255 * Math.cos(5.81999066695 + 451.9404211107 * t);
-        X1 += 0.00000002241 * Math.cos(2.22997211668 + 6144.5583531207 * t);
-        X1 += 0.00000002330 * Math.cos(3.20850507386 + 821.5437536686 * t);
-        X1 += 0.00000002648 * Math.cos(3.95978520157 + 460.5384408198 * t);
-        X1 += 0.00000002459 * Math.cos(2.05612285306 + 634.4806603426 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 249 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00016015732 * Math.cos(3.83700026619 + 74.7815985673 * t);
-        X2 += 0.00010915299 * Math.cos(3.02987776270 + 149.5631971346 * t);
-        X2 += 0.00007497619 * Math.cos(3.83429136661 + 11.0457002639 * t);
-        X2 += 0.00008053623 * Math.cos(2.54646146122 + 63.7358983034 * t);
-        X2 += 0.00005408033 * Math.cos(4.78033642303 + 70.8494453042 * t);
-        X2 += 0.00005021971 * Math.cos(3.04632772928 + 78.7137518304 * t);
-        X2 += 0.00006717313 * Math.cos(5.31264214501 + 85.8272988312 * t);
-        X2 += 0.00005284684 * Math.cos(2.11901942097 + 73.297125859 * t);
-        X2 += 0.00004874936 * Math.cos(5.68616132176 + 76.2660712756 * t);
-        X2 += 0.00003002124 * Math.cos(4.07944398452 + 138.5174968707 * t);
-        X2 += 0.00002521797 * Math.cos(3.36028253173 + 71.6002048296 * t);
-        X2 += 0.00002413832 * Math.cos(4.45865225690 + 77.962992305 * t);
-        X2 += 0.00002221373 * Math.cos(0.87427485235 + 3.9321532631 * t);
-        X2 += 0.00002291767;
-        X2 += 0.00001040250 * Math.cos(0.73133408837 + 145.6310438715 * t);
-        X2 += 0.00001046100 * Math.cos(5.85311910228 + 224.3447957019 * t);
-        X2 += 0.00000661586 * Math.cos(1.01544505345 + 18.1592472647 * t);
-        X2 += 0.00000497229 * Math.cos(5.27733214183 + 22.0914005278 * t);
-        X2 += 0.00000502471 * Math.cos(2.22514214710 + 151.0476698429 * t);
-        X2 += 0.00000478348 * Math.cos(3.19107941219 + 72.3339180125 * t);
-        X2 += 0.00000382454 * Math.cos(5.20159531773 + 77.7505439839 * t);
-        X2 += 0.00000469767 * Math.cos(1.82481202242 + 3.1813937377 * t);
-        X2 += 0.00000403174 * Math.cos(1.56215178272 + 160.6088973985 * t);
-        X2 += 0.00000329455 * Math.cos(2.55333634094 + 71.8126531507 * t);
-        X2 += 0.00000384741 * Math.cos(4.73239324750 + 77.2292791221 * t);
-        X2 += 0.00000335931 * Math.cos(0.05377868960 + 65.2203710117 * t);
-        X2 += 0.00000281380 * Math.cos(0.54117101233 + 131.4039498699 * t);
-        X2 += 0.00000266860 * Math.cos(0.01657445784 + 52.6901980395 * t);
-        X2 += 0.00000234876 * Math.cos(4.75379495234 + 56.6223513026 * t);
-        X2 += 0.00000247761 * Math.cos(2.17938049654 + 127.4717966068 * t);
-        X2 += 0.00000219378 * Math.cos(3.47071742536 + 220.4126424388 * t);
-        X2 += 0.00000301025 * Math.cos(1.77677607945 + 84.3428261229 * t);
-        X2 += 0.00000284485 * Math.cos(5.80269050272 + 148.0787244263 * t);
-        X2 += 0.00000205875 * Math.cos(2.90044450656 + 92.940845832 * t);
-        X2 += 0.00000211227 * Math.cos(5.58201664740 + 153.4953503977 * t);
-        X2 += 0.00000198069 * Math.cos(2.71231997005 + 12.5301729722 * t);
-        X2 += 0.00000204743 * Math.cos(4.25027722017 + 87.3117715395 * t);
-        X2 += 0.00000152803 * Math.cos(1.37513831090 + 206.1855484372 * t);
-        X2 += 0.00000139847 * Math.cos(1.67730385016 + 9.5612275556 * t);
-        X2 += 0.00000138451 * Math.cos(1.03809761305 + 213.299095438 * t);
-        X2 += 0.00000117677 * Math.cos(4.12702744572 + 522.5774180938 * t);
-        X2 += 0.00000114603 * Math.cos(0.21128941925 + 536.8045120954 * t);
-        X2 += 0.00000098993 * Math.cos(2.02428809026 + 80.1982245387 * t);
-        X2 += 0.00000121438 * Math.cos(1.52422428772 + 7.1135470008 * t);
-        X2 += 0.00000097004 * Math.cos(0.86929640949 + 96.8729990951 * t);
-        X2 += 0.00000106322 * Math.cos(5.89383486521 + 146.3818033969 * t);
-        X2 += 0.00000086287 * Math.cos(2.23015105953 + 299.1263942692 * t);
-        X2 += 0.00000090522 * Math.cos(2.74395447453 + 67.6680515665 * t);
-        X2 += 0.00000103834 * Math.cos(3.59301778375 + 62.2514255951 * t);
-        X2 += 0.00000077436 * Math.cos(4.98636443135 + 81.8951455681 * t);
-        X2 += 0.00000070849 * Math.cos(5.07088456819 + 2.4476805548 * t);
-        X2 += 0.00000065862 * Math.cos(3.55424953000 + 14.977853527 * t);
-        X2 += 0.00000085668 * Math.cos(5.65370424236 + 2.9689454166 * t);
-        X2 += 0.00000065260 * Math.cos(2.51080562822 + 426.598190876 * t);
-        X2 += 0.00000061522 * Math.cos(2.56662485733 + 152.7445908723 * t);
-        X2 += 0.00000058821 * Math.cos(4.32245164895 + 134.5853436076 * t);
-        X2 += 0.00000074596 * Math.cos(5.30818484038 + 529.6909650946 * t);
-        X2 += 0.00000051315 * Math.cos(0.00373759576 + 202.2533951741 * t);
-        X2 += 0.00000049992 * Math.cos(1.98018927812 + 59.8037450403 * t);
-        X2 += 0.00000050856 * Math.cos(4.15026804629 + 79.2350166922 * t);
-        X2 += 0.00000049175 * Math.cos(4.90786846273 + 225.8292684102 * t);
-        X2 += 0.00000051450 * Math.cos(4.40765627804 + 195.1398481733 * t);
-        X2 += 0.00000044332 * Math.cos(3.66737843207 + 70.3281804424 * t);
-        X2 += 0.00000041618 * Math.cos(1.43117441969 + 152.5321425512 * t);
-        X2 += 0.00000038820 * Math.cos(5.11340409945 + 1059.3819301892 * t);
-        X2 += 0.00000037700 * Math.cos(1.70254629773 + 45.5766510387 * t);
-        X2 += 0.00000036505 * Math.cos(5.84418341803 + 69.3649725959 * t);
-        X2 += 0.00000039803 * Math.cos(3.21738514579 + 29.2049475286 * t);
-        X2 += 0.00000048281 * Math.cos(6.18868466775 + 142.4496501338 * t);
-        X2 += 0.00000036470 * Math.cos(5.45483351078 + 137.0330241624 * t);
-        X2 += 0.00000037711 * Math.cos(0.70882593116 + 209.3669421749 * t);
-        X2 += 0.00000039412 * Math.cos(3.54558409287 + 120.358249606 * t);
-        X2 += 0.00000032468 * Math.cos(6.09766987253 + 5.4166259714 * t);
-        X2 += 0.00000025083 * Math.cos(4.16747912718 + 23.5758732361 * t);
-        X2 += 0.00000025905 * Math.cos(0.80510379907 + 222.8603229936 * t);
-        X2 += 0.00000024866 * Math.cos(1.45023442479 + 20.6069278195 * t);
-        X2 += 0.00000027600 * Math.cos(0.65039122587 + 152.0108776894 * t);
-        X2 += 0.00000025328 * Math.cos(4.07713496029 + 235.3904959658 * t);
-        X2 += 0.00000021959 * Math.cos(0.78915450301 + 33.1371007917 * t);
-        X2 += 0.00000026156 * Math.cos(0.49779058359 + 1.4844727083 * t);
-        X2 += 0.00000020344 * Math.cos(1.10805613196 + 14.2270940016 * t);
-        X2 += 0.00000020189 * Math.cos(1.31242215188 + 70.1157321213 * t);
-        X2 += 0.00000019159 * Math.cos(1.72257291786 + 146.594251718 * t);
-        X2 += 0.00000018559 * Math.cos(5.83653047667 + 89.7594520943 * t);
-        X2 += 0.00000018566 * Math.cos(3.51201554536 + 159.1244246902 * t);
-        X2 += 0.00000018948 * Math.cos(4.93737832347 + 4.4534181249 * t);
-        X2 += 0.00000019964 * Math.cos(0.05022016188 + 116.4260963429 * t);
-        X2 += 0.00000018655 * Math.cos(3.35843280718 + 79.4474650133 * t);
-        X2 += 0.00000022886 * Math.cos(5.80349455674 + 39.6175083461 * t);
-        X2 += 0.00000016179 * Math.cos(4.91038066160 + 16.6747745564 * t);
-        X2 += 0.00000017966 * Math.cos(2.30154520649 + 73.0846775379 * t);
-        X2 += 0.00000015341 * Math.cos(2.59132541436 + 265.9892934775 * t);
-        X2 += 0.00000017437 * Math.cos(2.36850714129 + 76.4785195967 * t);
-        X2 += 0.00000019179 * Math.cos(4.23225185740 + 41.6444977756 * t);
-        X2 += 0.00000014327 * Math.cos(6.07708539930 + 19.643719973 * t);
-        X2 += 0.00000014407 * Math.cos(6.22205029028 + 333.657345044 * t);
-        X2 += 0.00000016134 * Math.cos(0.95473971871 + 191.2076949102 * t);
-        X2 += 0.00000013774 * Math.cos(2.81919407438 + 433.7117378768 * t);
-        X2 += 0.00000014945 * Math.cos(0.55877569736 + 162.0933701068 * t);
-        X2 += 0.00000015321 * Math.cos(5.50789142281 + 147.1155165798 * t);
-        X2 += 0.00000013527 * Math.cos(2.36755086379 + 347.8844390456 * t);
-        X2 += 0.00000012898 * Math.cos(0.50208480683 + 419.4846438752 * t);
-        X2 += 0.00000011934 * Math.cos(1.13597368221 + 51.2057253312 * t);
-        X2 += 0.00000010994 * Math.cos(3.10745184212 + 60.5545045657 * t);
-        X2 += 0.00000011585 * Math.cos(1.72485861981 + 144.1465711632 * t);
-        X2 += 0.00000011019 * Math.cos(0.89138177474 + 25.2727942655 * t);
-        X2 += 0.00000010122 * Math.cos(1.26610747406 + 211.8146227297 * t);
-        X2 += 0.00000010330 * Math.cos(0.06803425383 + 140.001969579 * t);
-        X2 += 0.00000012693 * Math.cos(2.00537829250 + 109.9456887885 * t);
-        X2 += 0.00000009260 * Math.cos(5.39381298602 + 167.7224443993 * t);
-        X2 += 0.00000011487 * Math.cos(2.92874910876 + 88.7962442478 * t);
-        X2 += 0.00000009241 * Math.cos(1.63846284235 + 639.897286314 * t);
-        X2 += 0.00000008958 * Math.cos(5.52983885924 + 66.70484372 * t);
-        X2 += 0.00000009049 * Math.cos(4.52900392951 + 258.8757464767 * t);
-        X2 += 0.00000008611 * Math.cos(2.37390114378 + 277.0349937414 * t);
-        X2 += 0.00000009262 * Math.cos(1.82460574891 + 228.276948965 * t);
-        X2 += 0.00000008671 * Math.cos(4.30176725357 + 54.1746707478 * t);
-        X2 += 0.00000009388 * Math.cos(1.27494742725 + 340.7708920448 * t);
-        X2 += 0.00000007532 * Math.cos(4.84171458960 + 89.0086925689 * t);
-        X2 += 0.00000007790 * Math.cos(5.06093412042 + 41.1019810544 * t);
-        X2 += 0.00000007705 * Math.cos(3.36980508173 + 58.1068240109 * t);
-        X2 += 0.00000007448 * Math.cos(0.18702725085 + 128.9562693151 * t);
-        X2 += 0.00000008960 * Math.cos(3.03666968180 + 125.9873238985 * t);
-        X2 += 0.00000006887 * Math.cos(6.14238760125 + 273.1028404783 * t);
-        X2 += 0.00000007217 * Math.cos(2.86382215417 + 95.3885263868 * t);
-        X2 += 0.00000006283 * Math.cos(2.26635295310 + 305.3461693927 * t);
-        X2 += 0.00000006265 * Math.cos(2.79881908106 + 145.1097790097 * t);
-        X2 += 0.00000008596 * Math.cos(3.22141799373 + 288.0806940053 * t);
-        X2 += 0.00000006356 * Math.cos(4.52111917010 + 154.979823106 * t);
-        X2 += 0.00000006107 * Math.cos(0.90480185525 + 24.3790223882 * t);
-        X2 += 0.00000006111 * Math.cos(0.77279065409 + 1066.49547719 * t);
-        X2 += 0.00000006766 * Math.cos(1.53737992411 + 151.260118164 * t);
-        X2 += 0.00000005981 * Math.cos(0.41637475396 + 135.336103133 * t);
-        X2 += 0.00000005827 * Math.cos(1.00659438569 + 103.0927742186 * t);
-        X2 += 0.00000005829 * Math.cos(2.11807735162 + 39.3568759152 * t);
-        X2 += 0.00000005824 * Math.cos(0.69450297478 + 46.470422916 * t);
-        X2 += 0.00000006352 * Math.cos(4.27030627531 + 227.5261894396 * t);
-        X2 += 0.00000005209 * Math.cos(3.55809193513 + 1052.2683831884 * t);
-        X2 += 0.00000005423 * Math.cos(4.52805116374 + 91.4563731237 * t);
-        X2 += 0.00000005485 * Math.cos(3.82938065661 + 141.6988906084 * t);
-        X2 += 0.00000005191 * Math.cos(1.66188854192 + 472.1748419147 * t);
-        X2 += 0.00000005008 * Math.cos(4.23586429184 + 515.463871093 * t);
-        X2 += 0.00000005364 * Math.cos(2.53241953776 + 75.7448064138 * t);
-        X2 += 0.00000005364 * Math.cos(2.14698289824 + 73.8183907208 * t);
-        X2 += 0.00000005409 * Math.cos(4.09924811021 + 486.4019359163 * t);
-        X2 += 0.00000005249 * Math.cos(5.11243104270 + 60.7669528868 * t);
-        X2 += 0.00000004778 * Math.cos(5.86181739720 + 55.1378785943 * t);
-        X2 += 0.00000006015 * Math.cos(4.77184571162 + 36.6485629295 * t);
-        X2 += 0.00000006190 * Math.cos(4.96470959339 + 269.9214467406 * t);
-        X2 += 0.00000004604 * Math.cos(5.88010176802 + 415.5524906121 * t);
-        X2 += 0.00000004821 * Math.cos(4.95662631406 + 373.9079928365 * t);
-        X2 += 0.00000004572 * Math.cos(0.75390834385 + 124.2904028691 * t);
-        X2 += 0.00000004403 * Math.cos(3.47909854702 + 171.6545976624 * t);
-        X2 += 0.00000005162 * Math.cos(4.18164651430 + 383.3091616977 * t);
-        X2 += 0.00000005249 * Math.cos(6.10907433407 + 901.9544265284 * t);
-        X2 += 0.00000004614 * Math.cos(1.05531353110 + 230.5645708254 * t);
-        X2 += 0.00000004747 * Math.cos(5.94193042028 + 98.3574718034 * t);
-        X2 += 0.00000004287 * Math.cos(2.76994883489 + 108.4612160802 * t);
-        X2 += 0.00000004001 * Math.cos(5.71666355390 + 110.2063212194 * t);
-        X2 += 0.00000004233 * Math.cos(2.44612471178 + 329.7251917809 * t);
-        X2 += 0.00000003941 * Math.cos(3.69499703473 + 504.561183181 * t);
-        X2 += 0.00000004651 * Math.cos(1.50713403629 + 323.5054166574 * t);
-        X2 += 0.00000004079 * Math.cos(1.27681238416 + 1969.2006632438 * t);
-        X2 += 0.00000003812 * Math.cos(1.50706177765 + 199.0720014364 * t);
-        X2 += 0.00000003855 * Math.cos(4.05367916366 + 155.7829722581 * t);
-        X2 += 0.00000004566 * Math.cos(0.81568008468 + 223.4510238246 * t);
-        X2 += 0.00000003744 * Math.cos(0.15880085295 + 43.2890291783 * t);
-        X2 += 0.00000003719 * Math.cos(4.36823511490 + 404.5067903482 * t);
-        X2 += 0.00000003929 * Math.cos(5.65850658735 + 905.8865797915 * t);
-        X2 += 0.00000003709 * Math.cos(1.73135859909 + 94.4253185403 * t);
-        X2 += 0.00000003673 * Math.cos(5.13529281141 + 69.1525242748 * t);
-        X2 += 0.00000003673 * Math.cos(2.68570227818 + 80.4106728598 * t);
-        X2 += 0.00000003600 * Math.cos(1.76146735387 + 61.448276443 * t);
-        X2 += 0.00000003659 * Math.cos(4.79213652114 + 849.2642284889 * t);
-        X2 += 0.00000003681 * Math.cos(2.15475075702 + 460.5384408198 * t);
-        X2 += 0.00000003651 * Math.cos(6.08455104271 + 446.3113468182 * t);
-        X2 += 0.00000003881 * Math.cos(2.98444968516 + 184.0941479094 * t);
-        X2 += 0.00000003428 * Math.cos(5.14400730282 + 440.6822725257 * t);
-        X2 += 0.00000003443 * Math.cos(2.21022759178 + 354.9979860464 * t);
-        X2 += 0.00000003421 * Math.cos(0.74103984530 + 309.2783226558 * t);
-        X2 += 0.00000003367 * Math.cos(0.09517226768 + 543.9180590962 * t);
-        X2 += 0.00000003280 * Math.cos(5.46703748793 + 295.1942410061 * t);
-        X2 += 0.00000003244 * Math.cos(4.46870563032 + 428.0826635843 * t);
-        X2 += 0.00000003530 * Math.cos(2.35217076937 + 204.7010757289 * t);
-        X2 += 0.00000003225 * Math.cos(0.68793280970 + 1044.4040766622 * t);
-        X2 += 0.00000003267 * Math.cos(5.55596686820 + 1589.0728952838 * t);
-        X2 += 0.00000003211 * Math.cos(6.27801219506 + 1057.8974574809 * t);
-        X2 += 0.00000003210 * Math.cos(2.99486184675 + 237.6781178262 * t);
-        X2 += 0.00000003295 * Math.cos(1.57881542596 + 32.2433289144 * t);
-        X2 += 0.00000003632 * Math.cos(5.42848370959 + 57.5161231799 * t);
-        X2 += 0.00000003617 * Math.cos(4.97055767543 + 103.9865460959 * t);
-        X2 += 0.00000003795 * Math.cos(6.10018451515 + 294.3004691288 * t);
-        X2 += 0.00000003164 * Math.cos(6.16088044931 + 1819.6374661092 * t);
-        X2 += 0.00000004062 * Math.cos(3.00655088214 + 112.9146342051 * t);
-        X2 += 0.00000003605 * Math.cos(0.72583106929 + 344.7030453079 * t);
-        X2 += 0.00000003019 * Math.cos(2.15678911314 + 924.0458270562 * t);
-        X2 += 0.00000003542 * Math.cos(3.69190213033 + 956.2891559706 * t);
-        X2 += 0.00000003851 * Math.cos(2.80656744089 + 82.8583534146 * t);
-        X2 += 0.00000003332 * Math.cos(5.67293465746 + 336.8387387817 * t);
-        X2 += 0.00000003805 * Math.cos(2.89413818631 + 479.2883889155 * t);
-        X2 += 0.00000003052 * Math.cos(0.51209008409 + 531.1754378029 * t);
-        X2 += 0.00000003128 * Math.cos(5.41255399827 + 1282.8329540138 * t);
-        X2 += 0.00000002957 * Math.cos(3.38660409843 + 207.6700211455 * t);
-        X2 += 0.00000003093 * Math.cos(1.87518471712 + 217.2312487011 * t);
-        X2 += 0.00000003148 * Math.cos(6.00503879370 + 1169.5882514086 * t);
-        X2 += 0.00000003007 * Math.cos(3.41327104523 + 291.1190753911 * t);
-        X2 += 0.00000003096 * Math.cos(1.57250329749 + 109.3125493421 * t);
-        X2 += 0.00000003336 * Math.cos(5.87472092438 + 50.4025761791 * t);
-        X2 += 0.00000002836 * Math.cos(6.05952590725 + 88.1149206916 * t);
-        X2 += 0.00000003603 * Math.cos(0.32186436243 + 397.3932433474 * t);
-        X2 += 0.00000002839 * Math.cos(1.72546221305 + 942.062061969 * t);
-        X2 += 0.00000003033 * Math.cos(2.68660553420 + 976.7360250957 * t);
-        X2 += 0.00000003429 * Math.cos(2.87818281053 + 735.8765135318 * t);
-        X2 += 0.00000003534 * Math.cos(3.92461589097 + 33.6796175129 * t);
-        X2 += 0.00000002928 * Math.cos(2.44090835126 + 465.9550667912 * t);
-        X2 += 0.00000002936 * Math.cos(2.23930177092 + 306.830642101 * t);
-        X2 += 0.00000002797 * Math.cos(5.27776461068 + 381.6122406683 * t);
-        X2 += 0.00000003685 * Math.cos(3.67062213532 + 132.8884225782 * t);
-        X2 += 0.00000002705 * Math.cos(0.91231544669 + 469.1364605289 * t);
-        X2 += 0.00000002859 * Math.cos(0.21700779836 + 241.6102710893 * t);
-        X2 += 0.00000002585 * Math.cos(2.76360547907 + 99.1606209555 * t);
-        X2 += 0.00000002931 * Math.cos(5.74557876585 + 180.1619946463 * t);
-        X2 += 0.00000002538 * Math.cos(4.29751680883 + 218.9281697305 * t);
-        X2 += 0.00000002655 * Math.cos(4.61991142764 + 476.1069951778 * t);
-        X2 += 0.00000002655 * Math.cos(3.08090677601 + 297.6419215609 * t);
-        X2 += 0.00000002495 * Math.cos(3.85258617208 + 450.9772132642 * t);
-        X2 += 0.00000002574 * Math.cos(1.56646107957 + 411.620337349 * t);
-        X2 += 0.00000002619 * Math.cos(0.30873583037 + 221.3758502853 * t);
-        X2 += 0.00000002614 * Math.cos(3.56422655479 + 1155.361157407 * t);
-        X2 += 0.00000002869 * Math.cos(5.95990878227 + 606.7601855223 * t);
-        X2 += 0.00000002427 * Math.cos(0.92530262269 + 714.6788848813 * t);
-        X2 += 0.00000002527 * Math.cos(0.69443718848 + 778.4147831847 * t);
-        X2 += 0.00000002542 * Math.cos(0.17187583717 + 461.1291416508 * t);
-        X2 += 0.00000002602 * Math.cos(0.56141580457 + 144.8973306886 * t);
-        X2 += 0.00000002602 * Math.cos(0.97639397784 + 4.665866446 * t);
-        X2 += 0.00000002377 * Math.cos(3.23840164112 + 358.9301393095 * t);
-        X2 += 0.00000002338 * Math.cos(1.95316065171 + 916.9322800554 * t);
-        X2 += 0.00000002554 * Math.cos(2.51124659785 + 200.7689224658 * t);
-        X2 += 0.00000003266 * Math.cos(2.87192522292 + 610.6923387854 * t);
-        X2 += 0.00000002576 * Math.cos(0.29704294543 + 987.7817253596 * t);
-        X2 += 0.00000002332 * Math.cos(1.28782128032 + 429.7795846137 * t);
-        X2 += 0.00000002386 * Math.cos(5.04212582936 + 346.1875180162 * t);
-        X2 += 0.00000002352 * Math.cos(3.74305038474 + 198.321241911 * t);
-        X2 += 0.00000003010 * Math.cos(4.42947128023 + 275.5505210331 * t);
-        X2 += 0.00000002279 * Math.cos(3.39714919937 + 129.9194771616 * t);
-        X2 += 0.00000002589 * Math.cos(3.32716471243 + 376.9463742223 * t);
-        X2 += 0.00000002330 * Math.cos(3.64055170939 + 227.3137411185 * t);
-        X2 += 0.00000002749 * Math.cos(2.28150388150 + 92.0470739547 * t);
-        X2 += 0.00000002576 * Math.cos(3.89651804361 + 343.2185725996 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 84 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00001307049;
-        X3 += 0.00000679651 * Math.cos(2.93375081556 + 70.8494453042 * t);
-        X3 += 0.00000631782 * Math.cos(4.88998230611 + 78.7137518304 * t);
-        X3 += 0.00000578540 * Math.cos(0.78827411585 + 149.5631971346 * t);
-        X3 += 0.00000555324 * Math.cos(4.67554978713 + 63.7358983034 * t);
-        X3 += 0.00000455887 * Math.cos(3.17331985662 + 85.8272988312 * t);
-        X3 += 0.00000428312 * Math.cos(4.09419341772 + 73.297125859 * t);
-        X3 += 0.00000408432 * Math.cos(3.72971926457 + 76.2660712756 * t);
-        X3 += 0.00000446893 * Math.cos(5.00810179500 + 71.6002048296 * t);
-        X3 += 0.00000424302 * Math.cos(2.81325875072 + 77.962992305 * t);
-        X3 += 0.00000344605 * Math.cos(2.22416564687 + 11.0457002639 * t);
-        X3 += 0.00000253001 * Math.cos(2.51182572008 + 3.9321532631 * t);
-        X3 += 0.00000188565 * Math.cos(0.81232221065 + 74.7815985673 * t);
-        X3 += 0.00000132014 * Math.cos(5.73012783198 + 138.5174968707 * t);
-        X3 += 0.00000120517 * Math.cos(5.48054814455 + 18.1592472647 * t);
-        X3 += 0.00000121340 * Math.cos(5.32278814741 + 145.6310438715 * t);
-        X3 += 0.00000081059 * Math.cos(0.31859981536 + 3.1813937377 * t);
-        X3 += 0.00000052581 * Math.cos(3.32426714386 + 224.3447957019 * t);
-        X3 += 0.00000050989 * Math.cos(2.38152145113 + 131.4039498699 * t);
-        X3 += 0.00000041352 * Math.cos(0.40988109551 + 56.6223513026 * t);
-        X3 += 0.00000045947 * Math.cos(2.93842177968 + 22.0914005278 * t);
-        X3 += 0.00000034956 * Math.cos(6.15180077697 + 151.0476698429 * t);
-        X3 += 0.00000034550 * Math.cos(1.01095270214 + 92.940845832 * t);
-        X3 += 0.00000029013 * Math.cos(1.77495983861 + 220.4126424388 * t);
-        X3 += 0.00000028439 * Math.cos(5.71063354637 + 160.6088973985 * t);
-        X3 += 0.00000026418 * Math.cos(1.14627019293 + 153.4953503977 * t);
-        X3 += 0.00000020539 * Math.cos(3.06195471917 + 206.1855484372 * t);
-        X3 += 0.00000019493 * Math.cos(4.40804069151 + 67.6680515665 * t);
-        X3 += 0.00000018709 * Math.cos(3.44807838704 + 81.8951455681 * t);
-        X3 += 0.00000019345 * Math.cos(2.38872118054 + 52.6901980395 * t);
-        X3 += 0.00000019435 * Math.cos(1.54656365767 + 65.2203710117 * t);
-        X3 += 0.00000015815 * Math.cos(5.84994893460 + 522.5774180938 * t);
-        X3 += 0.00000015539 * Math.cos(2.03476393843 + 87.3117715395 * t);
-        X3 += 0.00000015606 * Math.cos(4.77226804746 + 536.8045120954 * t);
-        X3 += 0.00000017211 * Math.cos(4.69608865329 + 127.4717966068 * t);
-        X3 += 0.00000020752 * Math.cos(0.21287415066 + 84.3428261229 * t);
-        X3 += 0.00000015215 * Math.cos(6.23002900092 + 148.0787244263 * t);
-        X3 += 0.00000017277 * Math.cos(1.24548498498 + 146.3818033969 * t);
-        X3 += 0.00000008759 * Math.cos(5.81652723830 + 62.2514255951 * t);
-        X3 += 0.00000008663 * Math.cos(4.72691646144 + 96.8729990951 * t);
-        X3 += 0.00000007709 * Math.cos(1.22903169891 + 152.7445908723 * t);
-        X3 += 0.00000007875 * Math.cos(6.06848254483 + 195.1398481733 * t);
-        X3 += 0.00000006892 * Math.cos(0.42290386096 + 69.1525242748 * t);
-        X3 += 0.00000006892 * Math.cos(1.11490592145 + 80.4106728598 * t);
-        X3 += 0.00000006519 * Math.cos(3.51359374451 + 45.5766510387 * t);
-        X3 += 0.00000006131 * Math.cos(2.69408003257 + 134.5853436076 * t);
-        X3 += 0.00000005790 * Math.cos(1.86113898169 + 72.3339180125 * t);
-        X3 += 0.00000005692 * Math.cos(5.22115952238 + 209.3669421749 * t);
-        X3 += 0.00000005554 * Math.cos(2.84174026294 + 77.2292791221 * t);
-        X3 += 0.00000005258 * Math.cos(5.36467321323 + 120.358249606 * t);
-        X3 += 0.00000004995 * Math.cos(5.03278494168 + 298.2326223919 * t);
-        X3 += 0.00000004060 * Math.cos(3.84816850322 + 312.4597163935 * t);
-        X3 += 0.00000004420 * Math.cos(3.88854721697 + 80.1982245387 * t);
-        X3 += 0.00000004556 * Math.cos(1.09932074044 + 29.2049475286 * t);
-        X3 += 0.00000003855 * Math.cos(0.19744489675 + 59.8037450403 * t);
-        X3 += 0.00000003803 * Math.cos(3.44223491498 + 202.2533951741 * t);
-        X3 += 0.00000003701 * Math.cos(1.66917958581 + 213.299095438 * t);
-        X3 += 0.00000003772 * Math.cos(2.02816040987 + 71.8126531507 * t);
-        X3 += 0.00000003772 * Math.cos(2.65124202613 + 77.7505439839 * t);
-        X3 += 0.00000003593 * Math.cos(3.12409558551 + 199.0720014364 * t);
-        X3 += 0.00000003524 * Math.cos(3.84299077479 + 635.9651330509 * t);
-        X3 += 0.00000003428 * Math.cos(4.80423314667 + 621.7380390493 * t);
-        X3 += 0.00000003564 * Math.cos(2.97403981010 + 70.1157321213 * t);
-        X3 += 0.00000003564 * Math.cos(1.70536262591 + 79.4474650133 * t);
-        X3 += 0.00000003288 * Math.cos(4.66534694390 + 384.0599212231 * t);
-        X3 += 0.00000003244 * Math.cos(4.05420822900 + 611.5861106627 * t);
-        X3 += 0.00000003165 * Math.cos(0.62819309138 + 426.598190876 * t);
-        X3 += 0.00000003804 * Math.cos(0.20143822235 + 258.8757464767 * t);
-        X3 += 0.00000003341 * Math.cos(3.06249611780 + 472.1748419147 * t);
-        X3 += 0.00000002934 * Math.cos(4.39080953923 + 273.1028404783 * t);
-        X3 += 0.00000003244 * Math.cos(2.13702777798 + 408.4389436113 * t);
-        X3 += 0.00000002805 * Math.cos(4.46431718602 + 984.6003316219 * t);
-        X3 += 0.00000003534 * Math.cos(0.59650948026 + 69.3649725959 * t);
-        X3 += 0.00000002809 * Math.cos(6.27616204819 + 647.0108333148 * t);
-        X3 += 0.00000002709 * Math.cos(2.28251220521 + 486.4019359163 * t);
-        X3 += 0.00000002603 * Math.cos(5.72903828346 + 415.5524906121 * t);
-        X3 += 0.00000002640 * Math.cos(2.22058817761 + 288.0806940053 * t);
-        X3 += 0.00000002668 * Math.cos(2.78786175094 + 376.1956146969 * t);
-        X3 += 0.00000002998 * Math.cos(3.96389098534 + 73.0846775379 * t);
-        X3 += 0.00000002998 * Math.cos(0.71551145066 + 76.4785195967 * t);
-        X3 += 0.00000002563 * Math.cos(1.54843699395 + 216.4804891757 * t);
-        X3 += 0.00000002318 * Math.cos(0.89080611599 + 433.7117378768 * t);
-        X3 += 0.00000002358 * Math.cos(0.87971471502 + 624.919432787 * t);
-        X3 += 0.00000002219 * Math.cos(3.00732305327 + 391.1734682239 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 12 terms of order 4
-    {
-        double X4 = 0;
-        X4 -= 0.00000062987;
-        X4 += 0.00000034199 * Math.cos(0.42702885820 + 63.7358983034 * t);
-        X4 += 0.00000026702 * Math.cos(5.34493737706 + 149.5631971346 * t);
-        X4 += 0.00000027042 * Math.cos(1.11625109948 + 85.8272988312 * t);
-        X4 += 0.00000016293 * Math.cos(3.62714711041 + 18.1592472647 * t);
-        X4 += 0.00000006899 * Math.cos(4.21539961908 + 131.4039498699 * t);
-        X4 += 0.00000005852 * Math.cos(2.32484296944 + 56.6223513026 * t);
-        X4 += 0.00000005227 * Math.cos(5.41079816474 + 92.940845832 * t);
-        X4 += 0.00000002362 * Math.cos(0.90248563878 + 284.1485407422 * t);
-        X4 += 0.00000002295 * Math.cos(3.03607980943 + 365.9006739584 * t);
-        X4 += 0.00000002282 * Math.cos(0.14341692666 + 220.4126424388 * t);
-        X4 += 0.00000002248 * Math.cos(4.81094659630 + 206.1855484372 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 1 term of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000000000;
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1447 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 19.16518231584 * Math.cos(3.91045677002 + 74.7815985673 * t);
-        Y0 += 0.44390465203 * Math.cos(0.08884111329 + 149.5631971346 * t);
-        Y0 -= 0.16256125476;
-        Y0 += 0.14755940186 * Math.cos(1.85423280679 + 73.297125859 * t);
-        Y0 += 0.14123958128 * Math.cos(2.82486076549 + 76.2660712756 * t);
-        Y0 += 0.06250078231 * Math.cos(3.56960243857 + 1.4844727083 * t);
-        Y0 += 0.01542668264 * Math.cos(2.55040539213 + 224.3447957019 * t);
-        Y0 += 0.01442356575 * Math.cos(1.08004542712 + 148.0787244263 * t);
-        Y0 += 0.00938975501 * Math.cos(0.09275714761 + 11.0457002639 * t);
-        Y0 += 0.00650331846 * Math.cos(2.76142680222 + 63.7358983034 * t);
-        Y0 += 0.00657343120 * Math.cos(5.28830704469 + 151.0476698429 * t);
-        Y0 += 0.00621326770 * Math.cos(1.48795811387 + 77.7505439839 * t);
-        Y0 += 0.00541961958 * Math.cos(3.24476486661 + 71.8126531507 * t);
-        Y0 += 0.00547472694 * Math.cos(2.06037924573 + 85.8272988312 * t);
-        Y0 += 0.00459589120 * Math.cos(2.33745536070 + 2.9689454166 * t);
-        Y0 += 0.00495936105 * Math.cos(5.31205753740 + 529.6909650946 * t);
-        Y0 += 0.00387922853 * Math.cos(4.62026923885 + 138.5174968707 * t);
-        Y0 += 0.00268363417 * Math.cos(5.68085299020 + 213.299095438 * t);
-        Y0 += 0.00216239629 * Math.cos(3.73800767580 + 38.1330356378 * t);
-        Y0 += 0.00144032475 * Math.cos(0.75015700920 + 70.8494453042 * t);
-        Y0 += 0.00135290820 * Math.cos(3.93970260616 + 78.7137518304 * t);
-        Y0 += 0.00119670613 * Math.cos(2.53058783780 + 39.6175083461 * t);
-        Y0 += 0.00124868545 * Math.cos(0.94315917319 + 111.4301614968 * t);
-        Y0 += 0.00111204860 * Math.cos(3.55163219419 + 222.8603229936 * t);
-        Y0 += 0.00104507929 * Math.cos(2.33345675603 + 146.594251718 * t);
-        Y0 += 0.00108584454 * Math.cos(6.02234848388 + 35.1640902212 * t);
-        Y0 += 0.00063573747 * Math.cos(5.01204967920 + 299.1263942692 * t);
-        Y0 += 0.00053289771 * Math.cos(2.38437587876 + 3.9321532631 * t);
-        Y0 += 0.00063774261 * Math.cos(2.15607602904 + 109.9456887885 * t);
-        Y0 += 0.00039218598 * Math.cos(1.11841109252 + 4.4534181249 * t);
-        Y0 += 0.00034205426 * Math.cos(0.92405922576 + 65.2203710117 * t);
-        Y0 += 0.00034334377 * Math.cos(1.46696169843 + 225.8292684102 * t);
-        Y0 += 0.00034538316 * Math.cos(0.27613780697 + 79.2350166922 * t);
-        Y0 += 0.00039256771 * Math.cos(5.75956853703 + 202.2533951741 * t);
-        Y0 += 0.00026157754 * Math.cos(3.74097610798 + 9.5612275556 * t);
-        Y0 += 0.00023427328 * Math.cos(2.52740125551 + 145.6310438715 * t);
-        Y0 += 0.00022933138 * Math.cos(3.94455540350 + 84.3428261229 * t);
-        Y0 += 0.00031816303 * Math.cos(3.96860170484 + 152.5321425512 * t);
-        Y0 += 0.00025237176 * Math.cos(4.45141413666 + 70.3281804424 * t);
-        Y0 += 0.00028372491 * Math.cos(4.44714627097 + 184.7272873558 * t);
-        Y0 += 0.00026652859 * Math.cos(4.53944395347 + 160.6088973985 * t);
-        Y0 += 0.00019666208 * Math.cos(3.96350065335 + 74.6697239827 * t);
-        Y0 += 0.00019643845 * Math.cos(0.71577796385 + 74.8934731519 * t);
-        Y0 += 0.00019838981 * Math.cos(5.29113397354 + 12.5301729722 * t);
-        Y0 += 0.00021523908 * Math.cos(4.93565132068 + 36.6485629295 * t);
-        Y0 += 0.00015537967 * Math.cos(1.87863275460 + 52.6901980395 * t);
-        Y0 += 0.00020115100 * Math.cos(3.45473780762 + 127.4717966068 * t);
-        Y0 += 0.00020051641 * Math.cos(2.90386352937 + 22.0914005278 * t);
-        Y0 += 0.00019901477 * Math.cos(6.11075402434 + 112.9146342051 * t);
-        Y0 += 0.00018126776 * Math.cos(0.98478853787 + 33.6796175129 * t);
-        Y0 += 0.00015174962 * Math.cos(1.31314034959 + 41.1019810544 * t);
-        Y0 += 0.00011239020 * Math.cos(4.54508334011 + 71.6002048296 * t);
-        Y0 += 0.00013948849 * Math.cos(4.70474945682 + 221.3758502853 * t);
-        Y0 += 0.00010819728 * Math.cos(0.12807029856 + 77.962992305 * t);
-        Y0 += 0.00013589665 * Math.cos(0.98313719930 + 87.3117715395 * t);
-        Y0 += 0.00011996772 * Math.cos(5.66129275335 + 1059.3819301892 * t);
-        Y0 += 0.00012407787 * Math.cos(4.64945783340 + 72.3339180125 * t);
-        Y0 += 0.00011531140 * Math.cos(0.20190074645 + 77.2292791221 * t);
-        Y0 += 0.00008736150 * Math.cos(3.39874828293 + 186.2117600641 * t);
-        Y0 += 0.00007093587 * Math.cos(6.01613487245 + 297.6419215609 * t);
-        Y0 += 0.00006408245 * Math.cos(3.93246367895 + 62.2514255951 * t);
-        Y0 += 0.00006261153 * Math.cos(0.14258542752 + 153.4953503977 * t);
-        Y0 += 0.00007494000 * Math.cos(4.82565771386 + 426.598190876 * t);
-        Y0 += 0.00007856014 * Math.cos(1.12354254831 + 340.7708920448 * t);
-        Y0 += 0.00005516018 * Math.cos(1.73758326119 + 140.001969579 * t);
-        Y0 += 0.00005556643 * Math.cos(3.68095215063 + 145.1097790097 * t);
-        Y0 += 0.00005368405 * Math.cos(2.55422957958 + 75.3028634291 * t);
-        Y0 += 0.00005350948 * Math.cos(2.12171493922 + 74.2603337055 * t);
-        Y0 += 0.00004508794 * Math.cos(5.82224064821 + 66.70484372 * t);
-        Y0 += 0.00004290374 * Math.cos(5.54490766551 + 265.9892934775 * t);
-        Y0 += 0.00005013871 * Math.cos(3.11907749268 + 18.1592472647 * t);
-        Y0 += 0.00004326138 * Math.cos(5.70135056853 + 183.2428146475 * t);
-        Y0 += 0.00004750018 * Math.cos(3.38678300054 + 73.8183907208 * t);
-        Y0 += 0.00004445347 * Math.cos(5.00638490308 + 114.3991069134 * t);
-        Y0 += 0.00003314154 * Math.cos(5.23054574329 + 82.8583534146 * t);
-        Y0 += 0.00004509054 * Math.cos(1.31254342829 + 75.7448064138 * t);
-        Y0 += 0.00003553107 * Math.cos(6.18906516846 + 5.9378908332 * t);
-        Y0 += 0.00003265634 * Math.cos(5.23063560176 + 220.4126424388 * t);
-        Y0 += 0.00003575435 * Math.cos(5.83994849224 + 137.0330241624 * t);
-        Y0 += 0.00002880734 * Math.cos(1.19038424330 + 373.9079928365 * t);
-        Y0 += 0.00002885443 * Math.cos(3.50279993038 + 7.1135470008 * t);
-        Y0 += 0.00002594155 * Math.cos(4.93691413537 + 96.8729990951 * t);
-        Y0 += 0.00002559357 * Math.cos(2.87184237678 + 80.1982245387 * t);
-        Y0 += 0.00002676616 * Math.cos(1.61805362044 + 305.3461693927 * t);
-        Y0 += 0.00002246530 * Math.cos(5.80081898763 + 108.4612160802 * t);
-        Y0 += 0.00002474483 * Math.cos(2.21173751117 + 32.1951448046 * t);
-        Y0 += 0.00002060991 * Math.cos(6.24178596384 + 56.6223513026 * t);
-        Y0 += 0.00001958711 * Math.cos(4.80807045815 + 20.6069278195 * t);
-        Y0 += 0.00002227451 * Math.cos(5.34765264557 + 80.7194894005 * t);
-        Y0 += 0.00001937874 * Math.cos(0.49529839431 + 74.8297826771 * t);
-        Y0 += 0.00001937871 * Math.cos(4.18462288684 + 74.7334144575 * t);
-        Y0 += 0.00002164382 * Math.cos(0.47581392325 + 3.1813937377 * t);
-        Y0 += 0.00002138407 * Math.cos(2.63817804331 + 74.5209661364 * t);
-        Y0 += 0.00002130909 * Math.cos(2.04143912495 + 75.0422309982 * t);
-        Y0 += 0.00001787737 * Math.cos(0.32096699926 + 2.4476805548 * t);
-        Y0 += 0.00002212861 * Math.cos(0.61491281306 + 259.5088859231 * t);
-        Y0 += 0.00001889369 * Math.cos(3.92852240171 + 300.6108669775 * t);
-        Y0 += 0.00002275258 * Math.cos(1.55666401505 + 131.4039498699 * t);
-        Y0 += 0.00001925946 * Math.cos(6.00527473515 + 159.1244246902 * t);
-        Y0 += 0.00001802494 * Math.cos(4.16218259902 + 74.6215398729 * t);
-        Y0 += 0.00001796292 * Math.cos(0.51761494342 + 74.9416572617 * t);
-        Y0 += 0.00002240648 * Math.cos(0.47739127862 + 181.7583419392 * t);
-        Y0 += 0.00001924499 * Math.cos(2.64284880495 + 206.1855484372 * t);
-        Y0 += 0.00001626134 * Math.cos(3.70023731184 + 191.2076949102 * t);
-        Y0 += 0.00001860824 * Math.cos(0.10445996392 + 42.5864537627 * t);
-        Y0 += 0.00002177437 * Math.cos(2.80437422101 + 479.2883889155 * t);
-        Y0 += 0.00001896184 * Math.cos(4.26975898003 + 14.977853527 * t);
-        Y0 += 0.00002045249 * Math.cos(5.17400788104 + 835.0371344873 * t);
-        Y0 += 0.00001887812 * Math.cos(2.75000237791 + 154.0166152595 * t);
-        Y0 += 0.00001794754 * Math.cos(0.16290844853 + 227.3137411185 * t);
-        Y0 += 0.00001347410 * Math.cos(3.89237011696 + 288.0806940053 * t);
-        Y0 += 0.00001572826 * Math.cos(5.93367812903 + 219.891377577 * t);
-        Y0 += 0.00001424804 * Math.cos(5.10004758033 + 92.940845832 * t);
-        Y0 += 0.00001267766 * Math.cos(0.92771324396 + 404.5067903482 * t);
-        Y0 += 0.00001588897 * Math.cos(4.15115668974 + 39.3568759152 * t);
-        Y0 += 0.00001269786 * Math.cos(1.09685727529 + 142.4496501338 * t);
-        Y0 += 0.00001291065 * Math.cos(5.67425699047 + 68.8437077341 * t);
-        Y0 += 0.00001436850 * Math.cos(5.44312198350 + 522.5774180938 * t);
-        Y0 += 0.00001405564 * Math.cos(2.04677392527 + 536.8045120954 * t);
-        Y0 += 0.00001416917 * Math.cos(0.72597245494 + 235.3904959658 * t);
-        Y0 += 0.00001165315 * Math.cos(0.51071041452 + 81.8951455681 * t);
-        Y0 += 0.00001035262 * Math.cos(1.20639876458 + 5.4166259714 * t);
-        Y0 += 0.00001009454 * Math.cos(0.45375065997 + 74.0308390419 * t);
-        Y0 += 0.00001220696 * Math.cos(1.84988185963 + 211.8146227297 * t);
-        Y0 += 0.00000997784 * Math.cos(4.22640788890 + 75.5323580927 * t);
-        Y0 += 0.00001222886 * Math.cos(2.27306099902 + 187.6962327724 * t);
-        Y0 += 0.00001336792 * Math.cos(3.74888989756 + 380.12776796 * t);
-        Y0 += 0.00001151803 * Math.cos(0.46579056125 + 128.9562693151 * t);
-        Y0 += 0.00001149114 * Math.cos(0.85101218281 + 296.1574488526 * t);
-        Y0 += 0.00001163762 * Math.cos(5.51157783762 + 230.5645708254 * t);
-        Y0 += 0.00001192292 * Math.cos(0.68084398426 + 99.1606209555 * t);
-        Y0 += 0.00001151286 * Math.cos(4.01147735438 + 67.6680515665 * t);
-        Y0 += 0.00001189801 * Math.cos(4.01778306134 + 50.4025761791 * t);
-        Y0 += 0.00001015998 * Math.cos(1.00290501307 + 35.4247226521 * t);
-        Y0 += 0.00000923365 * Math.cos(5.76874685766 + 54.1746707478 * t);
-        Y0 += 0.00000855559 * Math.cos(4.49004561030 + 68.1893164283 * t);
-        Y0 += 0.00000911338 * Math.cos(0.12254293382 + 149.45132255 * t);
-        Y0 += 0.00001174953 * Math.cos(0.45683512473 + 110.2063212194 * t);
-        Y0 += 0.00000856856 * Math.cos(6.21758865027 + 89.7594520943 * t);
-        Y0 += 0.00001051606 * Math.cos(3.96907647535 + 14.0146456805 * t);
-        Y0 += 0.00000835264 * Math.cos(5.34437105960 + 59.8037450403 * t);
-        Y0 += 0.00000909788 * Math.cos(3.15839878322 + 149.6750717192 * t);
-        Y0 += 0.00000742857 * Math.cos(2.49216613688 + 277.0349937414 * t);
-        Y0 += 0.00000973381 * Math.cos(0.64028748776 + 218.4069048687 * t);
-        Y0 += 0.00000952790 * Math.cos(1.24773830053 + 106.9767433719 * t);
-        Y0 += 0.00000891414 * Math.cos(1.82007872482 + 23.5758732361 * t);
-        Y0 += 0.00000896763 * Math.cos(0.51927845768 + 200.7689224658 * t);
-        Y0 += 0.00000662758 * Math.cos(0.25796780548 + 81.3738807063 * t);
-        Y0 += 0.00000863768 * Math.cos(3.46041862039 + 162.0933701068 * t);
-        Y0 += 0.00000623013 * Math.cos(2.99649402595 + 51.2057253312 * t);
-        Y0 += 0.00000597805 * Math.cos(1.07147770615 + 134.5853436076 * t);
-        Y0 += 0.00000766040 * Math.cos(0.89351020566 + 68.5618234438 * t);
-        Y0 += 0.00000626173 * Math.cos(0.14763136288 + 24.3790223882 * t);
-        Y0 += 0.00000661316 * Math.cos(3.91236554284 + 8.0767548473 * t);
-        Y0 += 0.00000746242 * Math.cos(2.79717552793 + 760.25553592 * t);
-        Y0 += 0.00000643424 * Math.cos(5.98383236425 + 88.7962442478 * t);
-        Y0 += 0.00000703154 * Math.cos(1.49852097954 + 203.7378678824 * t);
-        Y0 += 0.00000581277 * Math.cos(0.83588836575 + 28.5718080822 * t);
-        Y0 += 0.00000528413 * Math.cos(0.71044436153 + 146.3818033969 * t);
-        Y0 += 0.00000695636 * Math.cos(4.49767435966 + 617.8058857862 * t);
-        Y0 += 0.00000604018 * Math.cos(2.75780757245 + 195.1398481733 * t);
-        Y0 += 0.00000536175 * Math.cos(1.52084605210 + 116.4260963429 * t);
-        Y0 += 0.00000560350 * Math.cos(1.79729642400 + 69.3649725959 * t);
-        Y0 += 0.00000485627 * Math.cos(5.77277696629 + 415.5524906121 * t);
-        Y0 += 0.00000587456 * Math.cos(2.33741613601 + 152.0108776894 * t);
-        Y0 += 0.00000666586 * Math.cos(4.63314190172 + 6.2197751235 * t);
-        Y0 += 0.00000505972 * Math.cos(0.95984060933 + 157.6399519819 * t);
-        Y0 += 0.00000550782 * Math.cos(5.85625308842 + 260.9933586314 * t);
-        Y0 += 0.00000588886 * Math.cos(4.62064969642 + 258.0244132148 * t);
-        Y0 += 0.00000537829 * Math.cos(5.54228018001 + 209.3669421749 * t);
-        Y0 += 0.00000445581 * Math.cos(5.33271706288 + 329.7251917809 * t);
-        Y0 += 0.00000618901 * Math.cos(4.52549231118 + 125.9873238985 * t);
-        Y0 += 0.00000513508 * Math.cos(0.74576777970 + 351.8165923087 * t);
-        Y0 += 0.00000449585 * Math.cos(2.60457386268 + 543.0242872189 * t);
-        Y0 += 0.00000488079 * Math.cos(5.04403350813 + 73.4090004436 * t);
-        Y0 += 0.00000563065 * Math.cos(3.08986059602 + 155.7829722581 * t);
-        Y0 += 0.00000435632 * Math.cos(6.01152475622 + 1589.0728952838 * t);
-        Y0 += 0.00000537029 * Math.cos(3.75711795413 + 81.0013736908 * t);
-        Y0 += 0.00000435630 * Math.cos(2.19413803718 + 372.4235201282 * t);
-        Y0 += 0.00000472431 * Math.cos(1.72063683793 + 180.2738692309 * t);
-        Y0 += 0.00000418634 * Math.cos(0.40340567628 + 95.3885263868 * t);
-        Y0 += 0.00000514049 * Math.cos(3.83742451002 + 115.8835796217 * t);
-        Y0 += 0.00000419613 * Math.cos(6.21605224514 + 41.6444977756 * t);
-        Y0 += 0.00000390364 * Math.cos(4.39316702257 + 152.7445908723 * t);
-        Y0 += 0.00000354100 * Math.cos(5.26264151031 + 46.2097904851 * t);
-        Y0 += 0.00000369010 * Math.cos(4.11078638826 + 144.1465711632 * t);
-        Y0 += 0.00000374623 * Math.cos(1.90215093451 + 73.1852512744 * t);
-        Y0 += 0.00000426261 * Math.cos(0.89836299897 + 141.4864422873 * t);
-        Y0 += 0.00000381449 * Math.cos(3.63961245738 + 114.1384744825 * t);
-        Y0 += 0.00000317869 * Math.cos(4.93937891025 + 33.1371007917 * t);
-        Y0 += 0.00000325976 * Math.cos(2.61924421042 + 228.276948965 * t);
-        Y0 += 0.00000306708 * Math.cos(2.91911612770 + 103.0927742186 * t);
-        Y0 += 0.00000354526 * Math.cos(4.66410291093 + 214.7835681463 * t);
-        Y0 += 0.00000405556 * Math.cos(2.67339819968 + 490.3340891794 * t);
-        Y0 += 0.00000405067 * Math.cos(0.76651664121 + 255.0554677982 * t);
-        Y0 += 0.00000324278 * Math.cos(4.97703425119 + 7.4223635415 * t);
-        Y0 += 0.00000313668 * Math.cos(1.39418130536 + 419.4846438752 * t);
-        Y0 += 0.00000316354 * Math.cos(3.43209926093 + 30.7106720963 * t);
-        Y0 += 0.00000287093 * Math.cos(5.24491427364 + 45.5766510387 * t);
-        Y0 += 0.00000277004 * Math.cos(4.21620590877 + 6.592282139 * t);
-        Y0 += 0.00000318464 * Math.cos(0.45911675628 + 120.358249606 * t);
-        Y0 += 0.00000311815 * Math.cos(0.79978809612 + 147.1155165798 * t);
-        Y0 += 0.00000337472 * Math.cos(3.60594773618 + 150.5264049811 * t);
-        Y0 += 0.00000255714 * Math.cos(6.18037150203 + 19.1224551112 * t);
-        Y0 += 0.00000246583 * Math.cos(1.17774433989 + 554.0699874828 * t);
-        Y0 += 0.00000307606 * Math.cos(4.06279403542 + 639.897286314 * t);
-        Y0 += 0.00000252403 * Math.cos(5.01154358916 + 150.0844619964 * t);
-        Y0 += 0.00000230070 * Math.cos(5.35619295971 + 60.7669528868 * t);
-        Y0 += 0.00000278047 * Math.cos(5.88865683969 + 29.2049475286 * t);
-        Y0 += 0.00000306257 * Math.cos(0.18368210739 + 6283.0758499914 * t);
-        Y0 += 0.00000302295 * Math.cos(0.43076728879 + 984.6003316219 * t);
-        Y0 += 0.00000265211 * Math.cos(1.11226453547 + 28.3111756513 * t);
-        Y0 += 0.00000227327 * Math.cos(3.78561264808 + 120.9913890524 * t);
-        Y0 += 0.00000198785 * Math.cos(3.18797196563 + 69.6737891366 * t);
-        Y0 += 0.00000222192 * Math.cos(3.44393515493 + 47.6942631934 * t);
-        Y0 += 0.00000219949 * Math.cos(5.18094249145 + 44.070926471 * t);
-        Y0 += 0.00000210545 * Math.cos(3.35124491126 + 0.5212648618 * t);
-        Y0 += 0.00000227699 * Math.cos(1.88879274658 + 216.9224321604 * t);
-        Y0 += 0.00000257536 * Math.cos(0.30399822270 + 1289.9465010146 * t);
-        Y0 += 0.00000231681 * Math.cos(2.78093325899 + 46.470422916 * t);
-        Y0 += 0.00000239720 * Math.cos(6.19793297710 + 756.3233826569 * t);
-        Y0 += 0.00000214437 * Math.cos(1.18016591525 + 189.1807054807 * t);
-        Y0 += 0.00000233297 * Math.cos(2.18609372572 + 339.2864193365 * t);
-        Y0 += 0.00000210930 * Math.cos(1.09786361796 + 316.3918696566 * t);
-        Y0 += 0.00000234130 * Math.cos(3.14530755107 + 342.2553647531 * t);
-        Y0 += 0.00000175836 * Math.cos(1.53408491826 + 57.255490749 * t);
-        Y0 += 0.00000167756 * Math.cos(5.59398995995 + 30.0562807905 * t);
-        Y0 += 0.00000216757 * Math.cos(0.90936155593 + 135.5485514541 * t);
-        Y0 += 0.00000173749 * Math.cos(4.28628512648 + 681.5417840896 * t);
-        Y0 += 0.00000164586 * Math.cos(0.70747217893 + 468.2426886516 * t);
-        Y0 += 0.00000203490 * Math.cos(5.82940017414 + 148.5999892881 * t);
-        Y0 += 0.00000163450 * Math.cos(1.53200906891 + 79.889407998 * t);
-        Y0 += 0.00000179581 * Math.cos(5.36487860827 + 103.3534066495 * t);
-        Y0 += 0.00000159175 * Math.cos(3.51044775078 + 17.5261078183 * t);
-        Y0 += 0.00000165292 * Math.cos(5.36941198819 + 154.979823106 * t);
-        Y0 += 0.00000192957 * Math.cos(5.12177898736 + 0.9632078465 * t);
-        Y0 += 0.00000185802 * Math.cos(3.99560320824 + 73.88782669 * t);
-        Y0 += 0.00000185802 * Math.cos(0.68379922776 + 75.6753704446 * t);
-        Y0 += 0.00000163127 * Math.cos(0.33878389027 + 264.5048207692 * t);
-        Y0 += 0.00000187130 * Math.cos(4.63207698177 + 149.0419322728 * t);
-        Y0 += 0.00000185821 * Math.cos(5.76008843913 + 76.154196691 * t);
-        Y0 += 0.00000175560 * Math.cos(4.41849512958 + 333.657345044 * t);
-        Y0 += 0.00000202867 * Math.cos(0.92934842891 + 291.7040307277 * t);
-        Y0 += 0.00000157912 * Math.cos(4.13655140282 + 82.2039621088 * t);
-        Y0 += 0.00000178492 * Math.cos(0.39921147736 + 685.4739373527 * t);
-        Y0 += 0.00000137687 * Math.cos(3.65255922607 + 448.6895914038 * t);
-        Y0 += 0.00000152639 * Math.cos(2.03301679425 + 233.9060232575 * t);
-        Y0 += 0.00000154719 * Math.cos(4.66548925160 + 294.6729761443 * t);
-        Y0 += 0.00000137993 * Math.cos(0.49895867902 + 16.6747745564 * t);
-        Y0 += 0.00000161861 * Math.cos(2.54166020189 + 105.4922706636 * t);
-        Y0 += 0.00000130404 * Math.cos(4.56696904208 + 76.4785195967 * t);
-        Y0 += 0.00000128155 * Math.cos(2.45134447197 + 156.1554792736 * t);
-        Y0 += 0.00000146437 * Math.cos(3.06416525256 + 334.2904844904 * t);
-        Y0 += 0.00000176732 * Math.cos(1.60845376428 + 10213.285546211 * t);
-        Y0 += 0.00000157530 * Math.cos(1.02260224406 + 347.8844390456 * t);
-        Y0 += 0.00000120105 * Math.cos(5.04807417968 + 130.4407420234 * t);
-        Y0 += 0.00000127914 * Math.cos(5.91612723274 + 61.448276443 * t);
-        Y0 += 0.00000141971 * Math.cos(4.67692245942 + 173.9422195228 * t);
-        Y0 += 0.00000116798 * Math.cos(2.79975011606 + 692.5874843535 * t);
-        Y0 += 0.00000145866 * Math.cos(4.72508344563 + 24.1183899573 * t);
-        Y0 += 0.00000140467 * Math.cos(4.49862691968 + 286.596221297 * t);
-        Y0 += 0.00000121897 * Math.cos(4.89621303002 + 79.4474650133 * t);
-        Y0 += 0.00000113904 * Math.cos(5.19950219884 + 13.3333221243 * t);
-        Y0 += 0.00000143684 * Math.cos(4.38416731946 + 628.8515860501 * t);
-        Y0 += 0.00000128986 * Math.cos(3.45591214307 + 254.9435932136 * t);
-        Y0 += 0.00000135174 * Math.cos(1.15418631167 + 171.6545976624 * t);
-        Y0 += 0.00000125769 * Math.cos(3.85907526779 + 98.3574718034 * t);
-        Y0 += 0.00000105739 * Math.cos(5.13563496088 + 66.9172920411 * t);
-        Y0 += 0.00000107892 * Math.cos(0.10090598897 + 375.3924655448 * t);
-        Y0 += 0.00000128792 * Math.cos(1.53820246543 + 155.5010879678 * t);
-        Y0 += 0.00000103751 * Math.cos(0.09858727182 + 54.3347294422 * t);
-        Y0 += 0.00000136546 * Math.cos(4.44396318920 + 909.8187330546 * t);
-        Y0 += 0.00000114357 * Math.cos(4.80183924958 + 273.1028404783 * t);
-        Y0 += 0.00000098940 * Math.cos(1.32720716375 + 27.0873353739 * t);
-        Y0 += 0.00000101658 * Math.cos(0.35890468314 + 362.8622925726 * t);
-        Y0 += 0.00000096174 * Math.cos(2.53649545857 + 258.8757464767 * t);
-        Y0 += 0.00000109802 * Math.cos(5.86019231369 + 143.6253063014 * t);
-        Y0 += 0.00000106158 * Math.cos(2.64028524201 + 302.0953396858 * t);
-        Y0 += 0.00000112226 * Math.cos(3.46253936917 + 92.3077063856 * t);
-        Y0 += 0.00000113609 * Math.cos(3.99798751814 + 632.7837393132 * t);
-        Y0 += 0.00000113987 * Math.cos(2.05059638924 + 253.5709950899 * t);
-        Y0 += 0.00000109155 * Math.cos(3.69281386772 + 55.6591434561 * t);
-        Y0 += 0.00000097687 * Math.cos(1.51458618418 + 76.7873361374 * t);
-        Y0 += 0.00000093010 * Math.cos(1.80257495113 + 93.9040536785 * t);
-        Y0 += 0.00000113624 * Math.cos(1.22774403773 + 604.4725636619 * t);
-        Y0 += 0.00000099120 * Math.cos(5.09958883998 + 149.3025647037 * t);
-        Y0 += 0.00000092794 * Math.cos(1.47028932852 + 43.2890291783 * t);
-        Y0 += 0.00000089934 * Math.cos(2.95642515081 + 149.6113812444 * t);
-        Y0 += 0.00000089774 * Math.cos(3.13504594259 + 217.2312487011 * t);
-        Y0 += 0.00000090777 * Math.cos(2.91730470316 + 267.4737661858 * t);
-        Y0 += 0.00000089603 * Math.cos(1.04619916818 + 295.1942410061 * t);
-        Y0 += 0.00000110540 * Math.cos(2.03204732442 + 19.643719973 * t);
-        Y0 += 0.00000089934 * Math.cos(0.36256511993 + 149.5150130248 * t);
-        Y0 += 0.00000104928 * Math.cos(4.71621888596 + 433.7117378768 * t);
-        Y0 += 0.00000097992 * Math.cos(4.61313651767 + 1052.2683831884 * t);
-        Y0 += 0.00000087921 * Math.cos(4.32670648553 + 74.1484591209 * t);
-        Y0 += 0.00000087921 * Math.cos(0.35269595047 + 75.4147380137 * t);
-        Y0 += 0.00000086241 * Math.cos(4.53063306110 + 76.42612997 * t);
-        Y0 += 0.00000116258 * Math.cos(4.19923354698 + 1215.1649024473 * t);
-        Y0 += 0.00000112324 * Math.cos(5.22657359082 + 228.7982138268 * t);
-        Y0 += 0.00000106862 * Math.cos(1.56894230537 + 81.682697247 * t);
-        Y0 += 0.00000105689 * Math.cos(5.90750871349 + 100.3844612329 * t);
-        Y0 += 0.00000082024 * Math.cos(5.83270282365 + 82.6459050935 * t);
-        Y0 += 0.00000083480 * Math.cos(2.97873123693 + 149.723255829 * t);
-        Y0 += 0.00000087612 * Math.cos(4.09200889540 + 58.1068240109 * t);
-        Y0 += 0.00000098663 * Math.cos(5.28681160540 + 88.1149206916 * t);
-        Y0 += 0.00000086521 * Math.cos(5.77990029279 + 6.9010986797 * t);
-        Y0 += 0.00000107519 * Math.cos(4.73121020405 + 1162.4747044078 * t);
-        Y0 += 0.00000080076 * Math.cos(0.46711196257 + 73.1370671646 * t);
-        Y0 += 0.00000099120 * Math.cos(4.50258673794 + 149.8238295655 * t);
-        Y0 += 0.00000076677 * Math.cos(5.83936897150 + 73.5577582899 * t);
-        Y0 += 0.00000104152 * Math.cos(3.12500840636 + 210.3301500214 * t);
-        Y0 += 0.00000075760 * Math.cos(6.09966718025 + 218.9281697305 * t);
-        Y0 += 0.00000090975 * Math.cos(0.83013329096 + 98.8999885246 * t);
-        Y0 += 0.00000074732 * Math.cos(5.25299025162 + 5.1078094307 * t);
-        Y0 += 0.00000083480 * Math.cos(0.34025903382 + 149.4031384402 * t);
-        Y0 += 0.00000084005 * Math.cos(3.28553283014 + 370.9390474199 * t);
-        Y0 += 0.00000105110 * Math.cos(1.09488557735 + 328.3525936572 * t);
-        Y0 += 0.00000074870 * Math.cos(5.30985523542 + 119.5069163441 * t);
-        Y0 += 0.00000074569 * Math.cos(4.55789803256 + 95.2284676924 * t);
-        Y0 += 0.00000074010 * Math.cos(4.76626906432 + 189.7232222019 * t);
-        Y0 += 0.00000077135 * Math.cos(0.02896321430 + 26.0235537909 * t);
-        Y0 += 0.00000090374 * Math.cos(1.46851586145 + 17.2654753874 * t);
-        Y0 += 0.00000086483 * Math.cos(1.70654125720 + 192.6921676185 * t);
-        Y0 += 0.00000069347 * Math.cos(5.01480404732 + 16.04163511 * t);
-        Y0 += 0.00000078846 * Math.cos(4.72561130487 + 262.4778313397 * t);
-        Y0 += 0.00000082091 * Math.cos(1.66303062044 + 175.1660598002 * t);
-        Y0 += 0.00000070186 * Math.cos(5.97826233723 + 820.0592809603 * t);
-        Y0 += 0.00000067869 * Math.cos(2.38336846275 + 606.7601855223 * t);
-        Y0 += 0.00000077397 * Math.cos(3.19409744954 + 310.1720945331 * t);
-        Y0 += 0.00000087004 * Math.cos(1.62284282986 + 894.8408795276 * t);
-        Y0 += 0.00000065829 * Math.cos(0.35938438379 + 73.9784494152 * t);
-        Y0 += 0.00000065829 * Math.cos(4.32001805221 + 75.5847477194 * t);
-        Y0 += 0.00000078542 * Math.cos(3.84154583566 + 50.66320861 * t);
-        Y0 += 0.00000077422 * Math.cos(6.17876938790 + 70.0462961521 * t);
-        Y0 += 0.00000075104 * Math.cos(3.21476153585 + 25.6028626656 * t);
-        Y0 += 0.00000073253 * Math.cos(2.97393986372 + 178.7893965226 * t);
-        Y0 += 0.00000068853 * Math.cos(2.39733676624 + 1066.49547719 * t);
-        Y0 += 0.00000085207 * Math.cos(3.04618638130 + 173.6815870919 * t);
-        Y0 += 0.00000087752 * Math.cos(5.06850205613 + 331.3215390738 * t);
-        Y0 += 0.00000080077 * Math.cos(3.13117992910 + 16.4623262353 * t);
-        Y0 += 0.00000083450 * Math.cos(4.82134683307 + 480.7728616238 * t);
-        Y0 += 0.00000070498 * Math.cos(2.80104084260 + 76.3779458602 * t);
-        Y0 += 0.00000079920 * Math.cos(3.87030192885 + 477.8039162072 * t);
-        Y0 += 0.00000078743 * Math.cos(2.65459072812 + 15.4991183888 * t);
-        Y0 += 0.00000080994 * Math.cos(0.84859852290 + 332.8060117821 * t);
-        Y0 += 0.00000075507 * Math.cos(2.06743974265 + 67.0773507355 * t);
-        Y0 += 0.00000058964 * Math.cos(1.82902730542 + 44.7253177768 * t);
-        Y0 += 0.00000070112 * Math.cos(1.28299080418 + 167.7224443993 * t);
-        Y0 += 0.00000077992 * Math.cos(1.70300103619 + 70.1157321213 * t);
-        Y0 += 0.00000077639 * Math.cos(1.49248726131 + 71.1582618449 * t);
-        Y0 += 0.00000066387 * Math.cos(6.24095505973 + 125.1841747464 * t);
-        Y0 += 0.00000059375 * Math.cos(1.96681230683 + 403.0223176399 * t);
-        Y0 += 0.00000055252 * Math.cos(2.87770649619 + 949.1756089698 * t);
-        Y0 += 0.00000054636 * Math.cos(6.18572063318 + 71.8608372605 * t);
-        Y0 += 0.00000064315 * Math.cos(6.09090612220 + 472.1748419147 * t);
-        Y0 += 0.00000052973 * Math.cos(4.46113364221 + 831.1049812242 * t);
-        Y0 += 0.00000065857 * Math.cos(4.49486698909 + 7.8643065262 * t);
-        Y0 += 0.00000053827 * Math.cos(0.67127500874 + 67.3592350258 * t);
-        Y0 += 0.00000060264 * Math.cos(4.31075800997 + 454.9093665273 * t);
-        Y0 += 0.00000053991 * Math.cos(3.01146704045 + 148.8124376092 * t);
-        Y0 += 0.00000051867 * Math.cos(4.77686720248 + 77.7023598741 * t);
-        Y0 += 0.00000070395 * Math.cos(3.20554541979 + 78.4049352897 * t);
-        Y0 += 0.00000056126 * Math.cos(2.54058148898 + 65.3804297061 * t);
-        Y0 += 0.00000066432 * Math.cos(1.83612960996 + 846.0828347512 * t);
-        Y0 += 0.00000059491 * Math.cos(6.08727466304 + 256.5399405065 * t);
-        Y0 += 0.00000061624 * Math.cos(2.19426288431 + 290.2195580194 * t);
-        Y0 += 0.00000061333 * Math.cos(5.64664423158 + 1364.7280995819 * t);
-        Y0 += 0.00000057149 * Math.cos(0.50053166486 + 31.6526280834 * t);
-        Y0 += 0.00000055249 * Math.cos(4.98968823058 + 74.4090915518 * t);
-        Y0 += 0.00000055249 * Math.cos(5.97289951260 + 75.1541055828 * t);
-        Y0 += 0.00000053798 * Math.cos(0.50648861767 + 13.4933808187 * t);
-        Y0 += 0.00000049301 * Math.cos(5.39744243512 + 76.0054388447 * t);
-        Y0 += 0.00000067640 * Math.cos(0.64240183724 + 278.5194664497 * t);
-        Y0 += 0.00000062225 * Math.cos(2.60564950826 + 82.4858463991 * t);
-        Y0 += 0.00000049881 * Math.cos(0.72603310338 + 91.4563731237 * t);
-        Y0 += 0.00000051406 * Math.cos(1.10843247300 + 101.8689339412 * t);
-        Y0 += 0.00000052229 * Math.cos(3.14515157585 + 184.9879197867 * t);
-        Y0 += 0.00000056294 * Math.cos(0.03303123026 + 142.9709149956 * t);
-        Y0 += 0.00000048570 * Math.cos(1.04696116864 + 48.9181034708 * t);
-        Y0 += 0.00000065078 * Math.cos(2.28307091556 + 237.6781178262 * t);
-        Y0 += 0.00000061846 * Math.cos(3.01358019450 + 61.2882177486 * t);
-        Y0 += 0.00000047590 * Math.cos(2.58646137213 + 224.2329211173 * t);
-        Y0 += 0.00000048035 * Math.cos(4.24298529357 + 43.1289704839 * t);
-        Y0 += 0.00000046688 * Math.cos(3.14104089569 + 106.2741679563 * t);
-        Y0 += 0.00000057708 * Math.cos(2.71180344965 + 303.8616966844 * t);
-        Y0 += 0.00000053190 * Math.cos(4.73802617636 + 79.5169009825 * t);
-        Y0 += 0.00000045467 * Math.cos(3.56475248959 + 69.1525242748 * t);
-        Y0 += 0.00000054456 * Math.cos(5.91606185436 + 236.8749686741 * t);
-        Y0 += 0.00000054466 * Math.cos(2.17820102905 + 74.1272072615 * t);
-        Y0 += 0.00000054466 * Math.cos(2.50120140695 + 75.4359898731 * t);
-        Y0 += 0.00000057370 * Math.cos(2.72607672194 + 486.4019359163 * t);
-        Y0 += 0.00000049209 * Math.cos(5.59180020112 + 177.8743727859 * t);
-        Y0 += 0.00000047382 * Math.cos(2.81281283006 + 14.2270940016 * t);
-        Y0 += 0.00000048903 * Math.cos(5.20790489853 + 122.4758617607 * t);
-        Y0 += 0.00000043958 * Math.cos(3.51862818809 + 57.5161231799 * t);
-        Y0 += 0.00000049065 * Math.cos(0.32033940212 + 55.7710180407 * t);
-        Y0 += 0.00000052405 * Math.cos(0.06300352006 + 58.7399634573 * t);
-        Y0 += 0.00000047603 * Math.cos(2.13905443526 + 84.1827674285 * t);
-        Y0 += 0.00000059452 * Math.cos(2.64459100980 + 117.36805233 * t);
-        Y0 += 0.00000042464 * Math.cos(0.34761416357 + 150.31395666 * t);
-        Y0 += 0.00000042224 * Math.cos(5.36565135834 + 31.492569389 * t);
-        Y0 += 0.00000056913 * Math.cos(0.53808385027 + 25.0603459444 * t);
-        Y0 += 0.00000053599 * Math.cos(6.09401185678 + 767.3690829208 * t);
-        Y0 += 0.00000045165 * Math.cos(1.62137110390 + 167.0893049529 * t);
-        Y0 += 0.00000044202 * Math.cos(4.50403074571 + 70.5888128733 * t);
-        Y0 += 0.00000055389 * Math.cos(1.25826751876 + 365.0011565867 * t);
-        Y0 += 0.00000055355 * Math.cos(2.74861110912 + 198.321241911 * t);
-        Y0 += 0.00000039625 * Math.cos(1.62185662608 + 72.4939767069 * t);
-        Y0 += 0.00000042295 * Math.cos(3.26980829888 + 232.4215505492 * t);
-        Y0 += 0.00000039728 * Math.cos(2.20105143608 + 88.274979386 * t);
-        Y0 += 0.00000052918 * Math.cos(5.55529236777 + 117.9105690512 * t);
-        Y0 += 0.00000037996 * Math.cos(3.64573952570 + 154.6710065653 * t);
-        Y0 += 0.00000047398 * Math.cos(5.61862934792 + 75.6329318292 * t);
-        Y0 += 0.00000047398 * Math.cos(5.34395839526 + 73.9302653054 * t);
-        Y0 += 0.00000045095 * Math.cos(5.09840444946 + 393.4610900843 * t);
-        Y0 += 0.00000041021 * Math.cos(0.17537188201 + 78.9743842613 * t);
-        Y0 += 0.00000049970 * Math.cos(3.55869944978 + 7.7042478318 * t);
-        Y0 += 0.00000042300 * Math.cos(6.01494050164 + 22.633917249 * t);
-        Y0 += 0.00000037354 * Math.cos(4.23058347236 + 49.7212526229 * t);
-        Y0 += 0.00000037062 * Math.cos(4.20186306066 + 397.3932433474 * t);
-        Y0 += 0.00000047477 * Math.cos(5.62213666350 + 224.4566702865 * t);
-        Y0 += 0.00000043525 * Math.cos(3.17935260457 + 25.8634950965 * t);
-        Y0 += 0.00000040051 * Math.cos(3.79235506158 + 306.830642101 * t);
-        Y0 += 0.00000047665 * Math.cos(4.06141529894 + 73.0846775379 * t);
-        Y0 += 0.00000040170 * Math.cos(2.45770060358 + 164.5410506616 * t);
-        Y0 += 0.00000037768 * Math.cos(5.10288059528 + 91.2439248026 * t);
-        Y0 += 0.00000047287 * Math.cos(1.81083449786 + 199.2844497575 * t);
-        Y0 += 0.00000035861 * Math.cos(4.71491046915 + 136.0698163159 * t);
-        Y0 += 0.00000039296 * Math.cos(4.64777796591 + 29.226199388 * t);
-        Y0 += 0.00000050065 * Math.cos(2.94906045687 + 51.8870488874 * t);
-        Y0 += 0.00000047358 * Math.cos(0.94380667353 + 836.5216071956 * t);
-        Y0 += 0.00000044940 * Math.cos(2.63982634792 + 142.1408335931 * t);
-        Y0 += 0.00000046274 * Math.cos(6.24438375030 + 833.552661779 * t);
-        Y0 += 0.00000043875 * Math.cos(4.01578111231 + 57.1436161644 * t);
-        Y0 += 0.00000036388 * Math.cos(2.84792168696 + 165.6048322446 * t);
-        Y0 += 0.00000040903 * Math.cos(0.28712839168 + 411.620337349 * t);
-        Y0 += 0.00000037380 * Math.cos(1.64167768184 + 180.1619946463 * t);
-        Y0 += 0.00000047176 * Math.cos(4.61546936356 + 3340.6124266998 * t);
-        Y0 += 0.00000037167 * Math.cos(4.49302460920 + 226.7924762567 * t);
-        Y0 += 0.00000035944 * Math.cos(0.68720378876 + 184.0941479094 * t);
-        Y0 += 0.00000033709 * Math.cos(3.11818030790 + 77.0692204277 * t);
-        Y0 += 0.00000033482 * Math.cos(0.14623243725 + 227.5261894396 * t);
-        Y0 += 0.00000035019 * Math.cos(4.74760141554 + 35.685355083 * t);
-        Y0 += 0.00000032558 * Math.cos(5.73366744278 + 1.3725981237 * t);
-        Y0 += 0.00000034531 * Math.cos(4.78443809928 + 132.8884225782 * t);
-        Y0 += 0.00000037298 * Math.cos(4.64646918432 + 0.8031491521 * t);
-        Y0 += 0.00000036838 * Math.cos(3.14836254781 + 215.4379594521 * t);
-        Y0 += 0.00000033520 * Math.cos(5.76793055388 + 248.7238180901 * t);
-        Y0 += 0.00000037511 * Math.cos(4.02111882433 + 94.4253185403 * t);
-        Y0 += 0.00000041562 * Math.cos(2.19963752791 + 163.5778428151 * t);
-        Y0 += 0.00000034188 * Math.cos(2.03037659091 + 335.7749571987 * t);
-        Y0 += 0.00000030713 * Math.cos(4.33324653529 + 31.5407534988 * t);
-        Y0 += 0.00000037212 * Math.cos(4.24423846684 + 93.7921790939 * t);
-        Y0 += 0.00000038967 * Math.cos(5.47430356472 + 142.6620984549 * t);
-        Y0 += 0.00000030838 * Math.cos(5.30049970793 + 90.8232336773 * t);
-        Y0 += 0.00000037309 * Math.cos(5.79272926143 + 124.5028511902 * t);
-        Y0 += 0.00000036881 * Math.cos(2.80082144083 + 75.3722993983 * t);
-        Y0 += 0.00000036881 * Math.cos(1.87858099517 + 74.1908977363 * t);
-        Y0 += 0.00000029320 * Math.cos(4.04523159344 + 745.277682393 * t);
-        Y0 += 0.00000039558 * Math.cos(5.86592561925 + 58.6280888727 * t);
-        Y0 += 0.00000031552 * Math.cos(3.77229684904 + 8.9068362498 * t);
-        Y0 += 0.00000032231 * Math.cos(0.69404916107 + 80.4106728598 * t);
-        Y0 += 0.00000029341 * Math.cos(4.80197600433 + 32.2433289144 * t);
-        Y0 += 0.00000039957 * Math.cos(1.71495531420 + 1744.8558675419 * t);
-        Y0 += 0.00000029381 * Math.cos(5.29197068465 + 530.6541729411 * t);
-        Y0 += 0.00000034894 * Math.cos(3.35588948339 + 143.3434220111 * t);
-        Y0 += 0.00000034738 * Math.cos(4.24812442276 + 42.5382696529 * t);
-        Y0 += 0.00000033579 * Math.cos(2.35670120676 + 92.0470739547 * t);
-        Y0 += 0.00000029397 * Math.cos(1.38889152740 + 958.576777831 * t);
-        Y0 += 0.00000029047 * Math.cos(2.54832074149 + 114.9416236346 * t);
-        Y0 += 0.00000029867 * Math.cos(3.73972221138 + 100.6450936638 * t);
-        Y0 += 0.00000028343 * Math.cos(2.18824674553 + 528.7277572481 * t);
-        Y0 += 0.00000027969 * Math.cos(0.61782090444 + 0.7507595254 * t);
-        Y0 += 0.00000034543 * Math.cos(2.36055310688 + 326.8681209489 * t);
-        Y0 += 0.00000034957 * Math.cos(0.34059593072 + 229.0800981171 * t);
-        Y0 += 0.00000026858 * Math.cos(1.15133785291 + 55.1378785943 * t);
-        Y0 += 0.00000029985 * Math.cos(4.74522232026 + 90.2807169561 * t);
-        Y0 += 0.00000032127 * Math.cos(4.54419877632 + 48.7580447764 * t);
-        Y0 += 0.00000032003 * Math.cos(3.49913714494 + 216.2680408546 * t);
-        Y0 += 0.00000028073 * Math.cos(5.56516198967 + 123.5396433437 * t);
-        Y0 += 0.00000027051 * Math.cos(1.46048880013 + 27.7204748203 * t);
-        Y0 += 0.00000027412 * Math.cos(3.17327799326 + 221.1634019642 * t);
-        Y0 += 0.00000033594 * Math.cos(2.01380545416 + 157.2674449664 * t);
-        Y0 += 0.00000037009 * Math.cos(5.77608967408 + 4.7353024152 * t);
-        Y0 += 0.00000031328 * Math.cos(2.07043626780 + 66.1835788582 * t);
-        Y0 += 0.00000027737 * Math.cos(0.71377469191 + 141.6988906084 * t);
-        Y0 += 0.00000026861 * Math.cos(3.33466740983 + 151.260118164 * t);
-        Y0 += 0.00000025516 * Math.cos(0.94690360002 + 284.1485407422 * t);
-        Y0 += 0.00000029332 * Math.cos(0.72314041835 + 8.5980197091 * t);
-        Y0 += 0.00000032143 * Math.cos(3.34008688936 + 1033.3583763983 * t);
-        Y0 += 0.00000026982 * Math.cos(2.84411833096 + 11.1575748485 * t);
-        Y0 += 0.00000034665 * Math.cos(5.24249308046 + 367.9701020033 * t);
-        Y0 += 0.00000026014 * Math.cos(4.66149750775 + 447.2051186955 * t);
-        Y0 += 0.00000033090 * Math.cos(4.94655582915 + 54.2865453324 * t);
-        Y0 += 0.00000025835 * Math.cos(3.54054842127 + 68.3011910129 * t);
-        Y0 += 0.00000024959 * Math.cos(5.49903630568 + 275.5505210331 * t);
-        Y0 += 0.00000024051 * Math.cos(0.02716967400 + 328.2407190726 * t);
-        Y0 += 0.00000026341 * Math.cos(1.11426693133 + 40.1600250673 * t);
-        Y0 += 0.00000023755 * Math.cos(6.10350487990 + 969.6224780949 * t);
-        Y0 += 0.00000025931 * Math.cos(0.50543349829 + 3.6233367224 * t);
-        Y0 += 0.00000032528 * Math.cos(0.20784726930 + 619.2903584945 * t);
-        Y0 += 0.00000025701 * Math.cos(0.62652000537 + 75.8935642601 * t);
-        Y0 += 0.00000025701 * Math.cos(4.05288243063 + 73.6696328745 * t);
-        Y0 += 0.00000028109 * Math.cos(6.07343558644 + 10.9338256793 * t);
-        Y0 += 0.00000030666 * Math.cos(1.81550555962 + 1140.38330388 * t);
-        Y0 += 0.00000025568 * Math.cos(0.30969823578 + 58.319272332 * t);
-        Y0 += 0.00000029542 * Math.cos(0.38908166418 + 565.1156877467 * t);
-        Y0 += 0.00000022965 * Math.cos(0.17434191029 + 188.9200730498 * t);
-        Y0 += 0.00000024997 * Math.cos(2.87330598675 + 2.2876218604 * t);
-        Y0 += 0.00000022892 * Math.cos(6.08711153861 + 117.3198682202 * t);
-        Y0 += 0.00000030628 * Math.cos(5.09784088338 + 90.9351082619 * t);
-        Y0 += 0.00000031484 * Math.cos(1.73913654546 + 97.6761482472 * t);
-        Y0 += 0.00000027480 * Math.cos(2.89233602186 + 25.2727942655 * t);
-        Y0 += 0.00000029792 * Math.cos(5.55171985100 + 616.3214130779 * t);
-        Y0 += 0.00000022571 * Math.cos(2.16687004586 + 70.6369969831 * t);
-        Y0 += 0.00000031058 * Math.cos(1.43279206593 + 401.6497195162 * t);
-        Y0 += 0.00000028415 * Math.cos(4.12348230751 + 405.9912630565 * t);
-        Y0 += 0.00000027161 * Math.cos(4.09025835610 + 104.8378793578 * t);
-        Y0 += 0.00000022243 * Math.cos(5.02281912723 + 85.9391734158 * t);
-        Y0 += 0.00000021822 * Math.cos(3.86589404722 + 34.62157350 * t);
-        Y0 += 0.00000023957 * Math.cos(3.62192659965 + 541.5398145106 * t);
-        Y0 += 0.00000023717 * Math.cos(3.96570662024 + 45.5553991793 * t);
-        Y0 += 0.00000023243 * Math.cos(1.06350780602 + 414.0680179038 * t);
-        Y0 += 0.00000024086 * Math.cos(2.70821760397 + 170.1701249541 * t);
-        Y0 += 0.00000028861 * Math.cos(0.64319686646 + 67.9286839974 * t);
-        Y0 += 0.00000022545 * Math.cos(2.64769317985 + 162.8965192589 * t);
-        Y0 += 0.00000022291 * Math.cos(0.79512014451 + 107.918699359 * t);
-        Y0 += 0.00000029192 * Math.cos(1.84655840013 + 1439.5096981492 * t);
-        Y0 += 0.00000022861 * Math.cos(1.72642949501 + 103.9865460959 * t);
-        Y0 += 0.00000021013 * Math.cos(1.29008318671 + 81.2620061217 * t);
-        Y0 += 0.00000024367 * Math.cos(4.94112415487 + 49.1787359017 * t);
-        Y0 += 0.00000023467 * Math.cos(3.95998507699 + 107.4980082337 * t);
-        Y0 += 0.00000020957 * Math.cos(2.51273700262 + 78.9262001515 * t);
-        Y0 += 0.00000025080 * Math.cos(0.62990903054 + 92.4195809702 * t);
-        Y0 += 0.00000020122 * Math.cos(5.07116177077 + 140.9651774255 * t);
-        Y0 += 0.00000027799 * Math.cos(0.96209912473 + 369.4545747116 * t);
-        Y0 += 0.00000020414 * Math.cos(3.43556230714 + 221.8971151471 * t);
-        Y0 += 0.00000020276 * Math.cos(3.99181745831 + 43.2408450685 * t);
-        Y0 += 0.00000020094 * Math.cos(6.08072379833 + 143.9341228421 * t);
-        Y0 += 0.00000023389 * Math.cos(2.70050292963 + 52.1476813183 * t);
-        Y0 += 0.00000020822 * Math.cos(3.66007416491 + 77.489911553 * t);
-        Y0 += 0.00000020822 * Math.cos(1.01932827109 + 72.0732855816 * t);
-        Y0 += 0.00000019167 * Math.cos(2.51195058548 + 9.4011688612 * t);
-        Y0 += 0.00000022130 * Math.cos(3.28604969599 + 252.0865223816 * t);
-        Y0 += 0.00000019238 * Math.cos(1.86487710128 + 144.8973306886 * t);
-        Y0 += 0.00000019379 * Math.cos(1.50967733121 + 22.8945496799 * t);
-        Y0 += 0.00000021476 * Math.cos(3.77193446657 + 104.0077979553 * t);
-        Y0 += 0.00000018640 * Math.cos(1.24369440348 + 289.5651667136 * t);
-        Y0 += 0.00000022426 * Math.cos(2.04135195791 + 37.8724032069 * t);
-        Y0 += 0.00000023788 * Math.cos(5.93558688968 + 166.828672522 * t);
-        Y0 += 0.00000021707 * Math.cos(2.83253969325 + 31.2319369581 * t);
-        Y0 += 0.00000022639 * Math.cos(5.17912426997 + 248.4631856592 * t);
-        Y0 += 0.00000021539 * Math.cos(5.04355745874 + 64.4866578288 * t);
-        Y0 += 0.00000018477 * Math.cos(0.61233843943 + 381.0909758065 * t);
-        Y0 += 0.00000024739 * Math.cos(4.02369602783 + 81.6345131372 * t);
-        Y0 += 0.00000018430 * Math.cos(3.77934306901 + 379.1645601135 * t);
-        Y0 += 0.00000018049 * Math.cos(2.34270181480 + 133.1008708993 * t);
-        Y0 += 0.00000020494 * Math.cos(1.10086101935 + 147.9668498417 * t);
-        Y0 += 0.00000024959 * Math.cos(3.08477269046 + 40.8413486235 * t);
-        Y0 += 0.00000020027 * Math.cos(2.84908153496 + 156.6767441354 * t);
-        Y0 += 0.00000021566 * Math.cos(5.83658853708 + 225.3080035484 * t);
-        Y0 += 0.00000017391 * Math.cos(2.86052058946 + 72.7758609972 * t);
-        Y0 += 0.00000017620 * Math.cos(5.07184757883 + 303.0585475323 * t);
-        Y0 += 0.00000021389 * Math.cos(4.38799405242 + 232.0490435337 * t);
-        Y0 += 0.00000019107 * Math.cos(5.96319659112 + 17.6379824029 * t);
-        Y0 += 0.00000019829 * Math.cos(0.44940833294 + 531.978586955 * t);
-        Y0 += 0.00000023483 * Math.cos(3.29343789705 + 19.0105805266 * t);
-        Y0 += 0.00000016980 * Math.cos(3.51859662271 + 75.2391729543 * t);
-        Y0 += 0.00000016980 * Math.cos(1.16080581329 + 74.3240241803 * t);
-        Y0 += 0.00000022320 * Math.cos(5.66281470091 + 10.0824924174 * t);
-        Y0 += 0.00000020030 * Math.cos(0.25164752666 + 14.5571624017 * t);
-        Y0 += 0.00000016607 * Math.cos(1.47546084960 + 241.6102710893 * t);
-        Y0 += 0.00000016233 * Math.cos(3.90399450150 + 312.4597163935 * t);
-        Y0 += 0.00000018599 * Math.cos(4.26067496372 + 148.1905990109 * t);
-        Y0 += 0.00000016025 * Math.cos(0.04481028972 + 2118.7638603784 * t);
-        Y0 += 0.00000021037 * Math.cos(4.42353418044 + 624.919432787 * t);
-        Y0 += 0.00000021300 * Math.cos(6.02101806289 + 95.2766518022 * t);
-        Y0 += 0.00000021612 * Math.cos(4.01322800375 + 758.7710632117 * t);
-        Y0 += 0.00000020855 * Math.cos(3.17986464297 + 331.2096644892 * t);
-        Y0 += 0.00000018484 * Math.cos(1.63013404137 + 905.8865797915 * t);
-        Y0 += 0.00000017265 * Math.cos(0.34376874392 + 20.4468691251 * t);
-        Y0 += 0.00000021485 * Math.cos(5.60817683212 + 1670.0742689746 * t);
-        Y0 += 0.00000019349 * Math.cos(2.53812164115 + 363.5166838784 * t);
-        Y0 += 0.00000021183 * Math.cos(2.76279313413 + 129.9194771616 * t);
-        Y0 += 0.00000019142 * Math.cos(1.99614767689 + 408.4389436113 * t);
-        Y0 += 0.00000017881 * Math.cos(0.09108273346 + 190.665178189 * t);
-        Y0 += 0.00000016009 * Math.cos(0.73172853687 + 75.6116799698 * t);
-        Y0 += 0.00000016009 * Math.cos(3.94767389914 + 73.9515171648 * t);
-        Y0 += 0.00000018321 * Math.cos(5.20071762389 + 106.0135355254 * t);
-        Y0 += 0.00000019988 * Math.cos(4.01527692746 + 376.1956146969 * t);
-        Y0 += 0.00000015304 * Math.cos(5.22150274374 + 216.4804891757 * t);
-        Y0 += 0.00000018460 * Math.cos(1.62901612902 + 135.336103133 * t);
-        Y0 += 0.00000014946 * Math.cos(4.73172529633 + 73.3453099688 * t);
-        Y0 += 0.00000014946 * Math.cos(3.08926979326 + 76.2178871658 * t);
-        Y0 += 0.00000014909 * Math.cos(0.56277089992 + 742.9900605326 * t);
-        Y0 += 0.00000014826 * Math.cos(5.27106391752 + 63.847772888 * t);
-        Y0 += 0.00000014632 * Math.cos(3.70605916082 + 610.6923387854 * t);
-        Y0 += 0.00000014573 * Math.cos(5.69303672241 + 76.3142553854 * t);
-        Y0 += 0.00000014573 * Math.cos(2.12795836718 + 73.2489417492 * t);
-        Y0 += 0.00000014515 * Math.cos(6.13046180828 + 63.6240237188 * t);
-        Y0 += 0.00000015630 * Math.cos(5.62865286872 + 515.463871093 * t);
-        Y0 += 0.00000018651 * Math.cos(0.33014377517 + 107.0249274817 * t);
-        Y0 += 0.00000015824 * Math.cos(1.02280522095 + 194.2885149114 * t);
-        Y0 += 0.00000014109 * Math.cos(6.15042431458 + 535.9107402181 * t);
-        Y0 += 0.00000019143 * Math.cos(4.20856207695 + 154.2984995498 * t);
-        Y0 += 0.00000017350 * Math.cos(4.77489944031 + 378.6432952517 * t);
-        Y0 += 0.00000017090 * Math.cos(5.84373455865 + 85.0765393058 * t);
-        Y0 += 0.00000014625 * Math.cos(4.19513189563 + 735.8765135318 * t);
-        Y0 += 0.00000017407 * Math.cos(2.05882445866 + 550.1378342197 * t);
-        Y0 += 0.00000013418 * Math.cos(2.06565331098 + 69.7856637212 * t);
-        Y0 += 0.00000013545 * Math.cos(2.20526550754 + 280.9671470045 * t);
-        Y0 += 0.00000016062 * Math.cos(0.95601300237 + 76.5267037065 * t);
-        Y0 += 0.00000016062 * Math.cos(0.58179678004 + 73.0364934281 * t);
-        Y0 += 0.00000015772 * Math.cos(3.90429897443 + 193.655375465 * t);
-        Y0 += 0.00000015368 * Math.cos(3.62887419403 + 60.5545045657 * t);
-        Y0 += 0.00000013843 * Math.cos(2.80861571550 + 199.0720014364 * t);
-        Y0 += 0.00000013244 * Math.cos(3.08157777565 + 501.3797894433 * t);
-        Y0 += 0.00000013094 * Math.cos(2.58882404011 + 12.0089081104 * t);
-        Y0 += 0.00000015317 * Math.cos(2.17090544987 + 134.0640787458 * t);
-        Y0 += 0.00000015934 * Math.cos(2.11466320925 + 703.6331846174 * t);
-        Y0 += 0.00000013153 * Math.cos(1.19799339989 + 224.8660605637 * t);
-        Y0 += 0.00000012895 * Math.cos(5.70317715970 + 883.7951792637 * t);
-        Y0 += 0.00000016329 * Math.cos(5.52724127720 + 176.6505325085 * t);
-        Y0 += 0.00000014158 * Math.cos(5.60862153409 + 147.5574595645 * t);
-        Y0 += 0.00000014094 * Math.cos(6.17561270564 + 39.0962434843 * t);
-        Y0 += 0.00000012513 * Math.cos(1.91122287401 + 195.7729876197 * t);
-        Y0 += 0.00000013295 * Math.cos(2.36096395500 + 322.6116447801 * t);
-        Y0 += 0.00000013527 * Math.cos(4.74412448417 + 73.4571845534 * t);
-        Y0 += 0.00000013527 * Math.cos(3.07687060542 + 76.1060125812 * t);
-        Y0 += 0.00000016854 * Math.cos(3.46771636802 + 853.196381752 * t);
-        Y0 += 0.00000013958 * Math.cos(4.48591449080 + 60.112561581 * t);
-        Y0 += 0.00000016443 * Math.cos(2.74987558168 + 83.3796182764 * t);
-        Y0 += 0.00000012655 * Math.cos(3.47988510950 + 749.2098356561 * t);
-        Y0 += 0.00000016510 * Math.cos(3.74296742734 + 121.8427223143 * t);
-        Y0 += 0.00000015009 * Math.cos(4.62009274232 + 323.5054166574 * t);
-        Y0 += 0.00000016814 * Math.cos(4.41075674576 + 336.8387387817 * t);
-        Y0 += 0.00000012292 * Math.cos(2.75806341567 + 79.7775334134 * t);
-        Y0 += 0.00000016510 * Math.cos(5.52233148572 + 285.1117485887 * t);
-        Y0 += 0.00000015553 * Math.cos(2.92654153303 + 64.6991061499 * t);
-        Y0 += 0.00000012189 * Math.cos(2.65532986668 + 842.1506814881 * t);
-        Y0 += 0.00000016677 * Math.cos(5.76088073458 + 381.6122406683 * t);
-        Y0 += 0.00000011943 * Math.cos(0.42213661289 + 59.2824801785 * t);
-        Y0 += 0.00000013363 * Math.cos(4.43976529562 + 172.1971143836 * t);
-        Y0 += 0.00000016588 * Math.cos(1.61054621410 + 438.2982824457 * t);
-        Y0 += 0.00000011847 * Math.cos(1.60289765228 + 417.0369633204 * t);
-        Y0 += 0.00000014834 * Math.cos(0.90690489444 + 115.3623147599 * t);
-        Y0 += 0.00000013008 * Math.cos(2.89351174908 + 1097.0942747017 * t);
-        Y0 += 0.00000015159 * Math.cos(4.93130097290 + 118.0706277456 * t);
-        Y0 += 0.00000014519 * Math.cos(0.73690474458 + 1819.6374661092 * t);
-        Y0 += 0.00000011811 * Math.cos(3.34660929802 + 34.5309507748 * t);
-        Y0 += 0.00000013353 * Math.cos(3.47302692091 + 288.7350853111 * t);
-        Y0 += 0.00000012331 * Math.cos(2.92269904453 + 83.6884348171 * t);
-        Y0 += 0.00000011578 * Math.cos(0.67710449732 + 65.3322455963 * t);
-        Y0 += 0.00000012173 * Math.cos(0.17117716363 + 44.0921783304 * t);
-        Y0 += 0.00000011367 * Math.cos(2.45902849811 + 59.5912967192 * t);
-        Y0 += 0.00000011935 * Math.cos(1.38104691130 + 256.4280659219 * t);
-        Y0 += 0.00000011301 * Math.cos(4.33131047313 + 164.1203595363 * t);
-        Y0 += 0.00000011090 * Math.cos(2.16461595995 + 55.8715917772 * t);
-        Y0 += 0.00000014191 * Math.cos(1.71094245264 + 124.2904028691 * t);
-        Y0 += 0.00000014583 * Math.cos(1.19984511600 + 406.1031376411 * t);
-        Y0 += 0.00000010768 * Math.cos(1.68225273790 + 466.7582159433 * t);
-        Y0 += 0.00000014342 * Math.cos(5.38282831087 + 404.6186649328 * t);
-        Y0 += 0.00000014813 * Math.cos(2.99911907613 + 47.061123747 * t);
-        Y0 += 0.00000012785 * Math.cos(0.10611241376 + 205.2223405907 * t);
-        Y0 += 0.00000010863 * Math.cos(1.57144632008 + 229.7614216733 * t);
-        Y0 += 0.00000010621 * Math.cos(0.35908343988 + 11.848849416 * t);
-        Y0 += 0.00000010749 * Math.cos(1.01461165684 + 151.850818995 * t);
-        Y0 += 0.00000011670 * Math.cos(4.42259077763 + 308.6876218248 * t);
-        Y0 += 0.00000010623 * Math.cos(1.71988698919 + 263.0203480609 * t);
-        Y0 += 0.00000014228 * Math.cos(1.61253324116 + 84.8640909847 * t);
-        Y0 += 0.00000012571 * Math.cos(0.54413812047 + 113.8778420516 * t);
-        Y0 += 0.00000010562 * Math.cos(1.47699734752 + 1108.1399749656 * t);
-        Y0 += 0.00000012234 * Math.cos(1.57689217779 + 118.8737768977 * t);
-        Y0 += 0.00000010485 * Math.cos(5.82765239186 + 105.380396079 * t);
-        Y0 += 0.00000010472 * Math.cos(0.27867447645 + 49.5088043018 * t);
-        Y0 += 0.00000012612 * Math.cos(3.14058189465 + 353.301065017 * t);
-        Y0 += 0.00000012785 * Math.cos(2.00022068392 + 757.8078553652 * t);
-        Y0 += 0.00000011539 * Math.cos(5.68756950373 + 75.3510475389 * t);
-        Y0 += 0.00000011539 * Math.cos(5.27501823945 + 74.2121495957 * t);
-        Y0 += 0.00000012272 * Math.cos(5.06355303230 + 1171.875873269 * t);
-        Y0 += 0.00000010737 * Math.cos(2.71181422069 + 552.5855147745 * t);
-        Y0 += 0.00000012562 * Math.cos(4.92895921367 + 109.3125493421 * t);
-        Y0 += 0.00000011375 * Math.cos(3.81808860702 + 546.956440482 * t);
-        Y0 += 0.00000011684 * Math.cos(1.21377406309 + 180.7951340927 * t);
-        Y0 += 0.00000010812 * Math.cos(0.46430555571 + 89.0086925689 * t);
-        Y0 += 0.00000010379 * Math.cos(5.51583359102 + 422.6660376129 * t);
-        Y0 += 0.00000010443 * Math.cos(0.81812110978 + 361.3778198643 * t);
-        Y0 += 0.00000011051 * Math.cos(5.41716692141 + 544.5087599272 * t);
-        Y0 += 0.00000009781 * Math.cos(4.00229890423 + 84.2309515383 * t);
-        Y0 += 0.00000010654 * Math.cos(3.65009209614 + 263.962304048 * t);
-        Y0 += 0.00000011318 * Math.cos(5.77251608576 + 43.5496616092 * t);
-        Y0 += 0.00000010734 * Math.cos(0.19349032271 + 89.4506355536 * t);
-        Y0 += 0.00000010593 * Math.cos(2.48672884196 + 71.7007785661 * t);
-        Y0 += 0.00000011184 * Math.cos(2.96936696687 + 150.3663462867 * t);
-        Y0 += 0.00000010242 * Math.cos(4.17472240690 + 177.3049238143 * t);
-        Y0 += 0.00000009899 * Math.cos(0.22320056950 + 207.8824694666 * t);
-        Y0 += 0.00000009406 * Math.cos(5.72421215324 + 69.3125829692 * t);
-        Y0 += 0.00000009406 * Math.cos(5.23837558994 + 80.2506141654 * t);
-        Y0 += 0.00000010031 * Math.cos(2.07665198858 + 63.9965307343 * t);
-        Y0 += 0.00000010094 * Math.cos(5.87961753510 + 69.9556734269 * t);
-        Y0 += 0.00000010841 * Math.cos(5.97074169778 + 483.2205421786 * t);
-        Y0 += 0.00000011965 * Math.cos(0.93110019198 + 754.8389099486 * t);
-        Y0 += 0.00000009710 * Math.cos(1.20269401520 + 217.4436970222 * t);
-        Y0 += 0.00000012674 * Math.cos(3.40700922514 + 337.8019466282 * t);
-        Y0 += 0.00000010157 * Math.cos(1.92635976166 + 543.9180590962 * t);
-        Y0 += 0.00000009823 * Math.cos(5.16832300250 + 153.186533857 * t);
-        Y0 += 0.00000010267 * Math.cos(5.20465459401 + 680.0573113813 * t);
-        Y0 += 0.00000011562 * Math.cos(5.23123134702 + 827.9235874865 * t);
-        Y0 += 0.00000010929 * Math.cos(3.11765296554 + 318.679491517 * t);
-        Y0 += 0.00000010742 * Math.cos(2.74602550756 + 400.1652468079 * t);
-        Y0 += 0.00000009954 * Math.cos(5.11935965746 + 79.6075237077 * t);
-        Y0 += 0.00000010258 * Math.cos(2.86914578171 + 443.8636662634 * t);
-        Y0 += 0.00000008816 * Math.cos(2.93689960538 + 210.1177017003 * t);
-        Y0 += 0.00000011193 * Math.cos(1.53824976312 + 112.6540017742 * t);
-        Y0 += 0.00000010112 * Math.cos(4.81465770550 + 196.6243208816 * t);
-        Y0 += 0.00000008787 * Math.cos(1.47803031887 + 532.8723588323 * t);
-        Y0 += 0.00000010923 * Math.cos(2.19640641448 + 525.7588118315 * t);
-        Y0 += 0.00000011236 * Math.cos(3.60322881200 + 679.2541622292 * t);
-        Y0 += 0.00000010740 * Math.cos(1.63089656531 + 210.8514148832 * t);
-        Y0 += 0.00000009957 * Math.cos(3.27690670045 + 95.9792272178 * t);
-        Y0 += 0.00000010391 * Math.cos(4.28740979080 + 30.5987975117 * t);
-        Y0 += 0.00000011035 * Math.cos(5.05306501350 + 204.7010757289 * t);
-        Y0 += 0.00000010257 * Math.cos(4.72952295598 + 30.6894202369 * t);
-        Y0 += 0.00000009597 * Math.cos(4.87795279417 + 292.0128472684 * t);
-        Y0 += 0.00000008297 * Math.cos(1.38743135300 + 674.4282370888 * t);
-        Y0 += 0.00000009433 * Math.cos(2.11672031795 + 670.4960838257 * t);
-        Y0 += 0.00000009226 * Math.cos(5.25948012740 + 73.8665748306 * t);
-        Y0 += 0.00000009226 * Math.cos(5.70310761578 + 75.696622304 * t);
-        Y0 += 0.00000008939 * Math.cos(3.07673404041 + 89.5993933999 * t);
-        Y0 += 0.00000010252 * Math.cos(5.26641498581 + 533.6231183577 * t);
-        Y0 += 0.00000009330 * Math.cos(6.27464135739 + 52.8020726241 * t);
-        Y0 += 0.00000009204 * Math.cos(2.03165690946 + 223.3815878554 * t);
-        Y0 += 0.00000008087 * Math.cos(0.84671801172 + 1022.3126761344 * t);
-        Y0 += 0.00000008044 * Math.cos(0.83166336147 + 77.1174045375 * t);
-        Y0 += 0.00000008044 * Math.cos(3.84773907453 + 72.4457925971 * t);
-        Y0 += 0.00000009956 * Math.cos(3.13550139505 + 366.485629295 * t);
-        Y0 += 0.00000007894 * Math.cos(2.51479045228 + 93.6916053574 * t);
-        Y0 += 0.00000009501 * Math.cos(3.98117068682 + 156.4642958143 * t);
-        Y0 += 0.00000009347 * Math.cos(0.34595654844 + 156.9855606761 * t);
-        Y0 += 0.00000008617 * Math.cos(2.59732031386 + 85.5666664003 * t);
-        Y0 += 0.00000008401 * Math.cos(2.71464714030 + 329.8370663655 * t);
-        Y0 += 0.00000007936 * Math.cos(2.06795339406 + 108.982480942 * t);
-        Y0 += 0.00000008607 * Math.cos(4.69707918551 + 62.9327491513 * t);
-        Y0 += 0.00000008920 * Math.cos(0.85529826739 + 118.0224436358 * t);
-        Y0 += 0.00000007747 * Math.cos(4.85251993051 + 208.8456773131 * t);
-        Y0 += 0.00000007543 * Math.cos(3.14113560246 + 77.016830801 * t);
-        Y0 += 0.00000007543 * Math.cos(4.67985948713 + 72.5463663336 * t);
-        Y0 += 0.00000008486 * Math.cos(3.16231049397 + 77.8624185685 * t);
-        Y0 += 0.00000007930 * Math.cos(5.13848606814 + 230.9370778409 * t);
-        Y0 += 0.00000007488 * Math.cos(2.09615005282 + 89.9719004154 * t);
-        Y0 += 0.00000008340 * Math.cos(3.52186355299 + 37.1698277913 * t);
-        Y0 += 0.00000007543 * Math.cos(2.16991727809 + 74.0478853844 * t);
-        Y0 += 0.00000007543 * Math.cos(5.65107781150 + 75.5153117502 * t);
-        Y0 += 0.00000009123 * Math.cos(1.47378498626 + 683.9894646444 * t);
-        Y0 += 0.00000008473 * Math.cos(3.11905002019 + 71.0095039986 * t);
-        Y0 += 0.00000008473 * Math.cos(1.56035241581 + 78.553693136 * t);
-        Y0 += 0.00000007467 * Math.cos(5.76311218462 + 1265.5674786264 * t);
-        Y0 += 0.00000008637 * Math.cos(4.56259611109 + 253.4591205053 * t);
-        Y0 += 0.00000007881 * Math.cos(2.82918869641 + 437.6438911399 * t);
-        Y0 += 0.00000007840 * Math.cos(3.43391206110 + 1044.4040766622 * t);
-        Y0 += 0.00000007312 * Math.cos(0.20999433254 + 369.0820676961 * t);
-        Y0 += 0.00000009186 * Math.cos(1.99613458826 + 100.8051523582 * t);
-        Y0 += 0.00000007227 * Math.cos(5.27786714168 + 131.9252147317 * t);
-        Y0 += 0.00000007647 * Math.cos(0.27276712122 + 148.6694252573 * t);
-        Y0 += 0.00000007557 * Math.cos(4.05945243031 + 1478.8665740644 * t);
-        Y0 += 0.00000007291 * Math.cos(6.14568466592 + 526.5095713569 * t);
-        Y0 += 0.00000007673 * Math.cos(3.99246895228 + 241.8709035202 * t);
-        Y0 += 0.00000008239 * Math.cos(2.52689364089 + 115.6229471908 * t);
-        Y0 += 0.00000008505 * Math.cos(3.92674400530 + 20.4950532349 * t);
-        Y0 += 0.00000008732 * Math.cos(3.10661058228 + 36.9091953604 * t);
-        Y0 += 0.00000007446 * Math.cos(2.33199789594 + 212.3358875915 * t);
-        Y0 += 0.00000008904 * Math.cos(1.84053282944 + 59.9638037347 * t);
-        Y0 += 0.00000007573 * Math.cos(5.75740358074 + 214.2623032845 * t);
-        Y0 += 0.00000007003 * Math.cos(5.60751778626 + 144.4553877039 * t);
-        Y0 += 0.00000008055 * Math.cos(1.54563741873 + 175.4266922311 * t);
-        Y0 += 0.00000007930 * Math.cos(3.93554290215 + 140.6563608848 * t);
-        Y0 += 0.00000007954 * Math.cos(4.06223295515 + 86.7905066777 * t);
-        Y0 += 0.00000006971 * Math.cos(1.96112655679 + 130.552616608 * t);
-        Y0 += 0.00000007835 * Math.cos(3.64665015583 + 325.3836482406 * t);
-        Y0 += 0.00000007607 * Math.cos(5.47726914934 + 409.0720830577 * t);
-        Y0 += 0.00000007074 * Math.cos(5.74851895878 + 350.3321196004 * t);
-        Y0 += 0.00000008543 * Math.cos(4.21577343156 + 304.1223291153 * t);
-        Y0 += 0.00000007388 * Math.cos(2.81311142997 + 33.0252262071 * t);
-        Y0 += 0.00000006809 * Math.cos(1.02610659483 + 561.1835344836 * t);
-        Y0 += 0.00000009209 * Math.cos(1.79255399765 + 474.9468453752 * t);
-        Y0 += 0.00000007310 * Math.cos(0.91958252559 + 21.1494445407 * t);
-        Y0 += 0.00000007536 * Math.cos(1.59048100371 + 425.1137181677 * t);
-        Y0 += 0.00000006559 * Math.cos(2.37613579061 + 129.1163280095 * t);
-        Y0 += 0.00000006623 * Math.cos(2.99305112717 + 44.6134431922 * t);
-        Y0 += 0.00000006791 * Math.cos(5.66453776650 + 41.7563723602 * t);
-        Y0 += 0.00000006957 * Math.cos(3.22863530078 + 753.1419889192 * t);
-        Y0 += 0.00000006851 * Math.cos(2.70895202823 + 301.4140161296 * t);
-        Y0 += 0.00000008444 * Math.cos(4.00381650923 + 344.7030453079 * t);
-        Y0 += 0.00000008617 * Math.cos(3.14518586851 + 150.4569690119 * t);
-        Y0 += 0.00000008448 * Math.cos(4.10192395818 + 249.9476583675 * t);
-        Y0 += 0.00000007676 * Math.cos(4.83442648042 + 60.2244361656 * t);
-        Y0 += 0.00000008927 * Math.cos(0.03475451069 + 749.5823426716 * t);
-        Y0 += 0.00000007702 * Math.cos(0.93795377619 + 237.4174853953 * t);
-        Y0 += 0.00000007174 * Math.cos(5.62425988881 + 445.7206459872 * t);
-        Y0 += 0.00000008136 * Math.cos(2.59047898473 + 927.9779803193 * t);
-        Y0 += 0.00000007105 * Math.cos(0.97447995190 + 6456.8800576977 * t);
-        Y0 += 0.00000007753 * Math.cos(4.97931501017 + 259.769518354 * t);
-        Y0 += 0.00000007998 * Math.cos(3.33317303740 + 403.1341922245 * t);
-        Y0 += 0.00000008396 * Math.cos(5.65756277879 + 514.7131115676 * t);
-        Y0 += 0.00000007098 * Math.cos(5.09584039611 + 1692.1656695024 * t);
-        Y0 += 0.00000007507 * Math.cos(1.58185957582 + 298.2326223919 * t);
-        Y0 += 0.00000006716 * Math.cos(3.41190297117 + 810.6581120991 * t);
-        Y0 += 0.00000006636 * Math.cos(2.29732416607 + 497.4476361802 * t);
-        Y0 += 0.00000008204 * Math.cos(6.11947201971 + 763.4369296577 * t);
-        Y0 += 0.00000007310 * Math.cos(4.44939190727 + 188.6594406189 * t);
-        Y0 += 0.00000006185 * Math.cos(3.32365881402 + 401.5378449316 * t);
-        Y0 += 0.00000006266 * Math.cos(3.00305385805 + 14.8177948326 * t);
-        Y0 += 0.00000006736 * Math.cos(5.90647943809 + 271.61836777 * t);
-        Y0 += 0.00000007863 * Math.cos(3.74840739322 + 688.6553310904 * t);
-        Y0 += 0.00000006028 * Math.cos(1.86770236481 + 1375.7737998458 * t);
-        Y0 += 0.00000007626 * Math.cos(5.84248316757 + 21.9795259432 * t);
-        Y0 += 0.00000006593 * Math.cos(0.92513779202 + 230.8252032563 * t);
-        Y0 += 0.00000007097 * Math.cos(0.55476052949 + 62.7726904569 * t);
-        Y0 += 0.00000006285 * Math.cos(2.50242046736 + 262.0571402144 * t);
-        Y0 += 0.00000007294 * Math.cos(5.22341373335 + 139.4807047172 * t);
-        Y0 += 0.00000007446 * Math.cos(0.25886416117 + 396.5419100855 * t);
-        Y0 += 0.00000006091 * Math.cos(1.01124713854 + 112.3933693433 * t);
-        Y0 += 0.00000008032 * Math.cos(0.83846257555 + 223.8235308401 * t);
-        Y0 += 0.00000005742 * Math.cos(4.76669456538 + 20202.22629672009 * t);
-        Y0 += 0.00000007250 * Math.cos(5.71919114487 + 1065.6017053127 * t);
-        Y0 += 0.00000006665 * Math.cos(2.98305275448 + 436.8138097374 * t);
-        Y0 += 0.00000007231 * Math.cos(5.43466319964 + 267.2131337549 * t);
-        Y0 += 0.00000006949 * Math.cos(3.01532739453 + 197.7999770492 * t);
-        Y0 += 0.00000006362 * Math.cos(2.10485537221 + 33.9402499438 * t);
-        Y0 += 0.00000006445 * Math.cos(5.63279998806 + 332.1728723357 * t);
-        Y0 += 0.00000006782 * Math.cos(4.04466074508 + 647.0108333148 * t);
-        Y0 += 0.00000005915 * Math.cos(3.81845923426 + 87.0511391086 * t);
-        Y0 += 0.00000005915 * Math.cos(0.86094320174 + 62.512058026 * t);
-        Y0 += 0.00000005541 * Math.cos(2.05931234771 + 21.1976286505 * t);
-        Y0 += 0.00000006293 * Math.cos(2.98872336268 + 178.1350052168 * t);
-        Y0 += 0.00000006922 * Math.cos(3.28593901075 + 407.5876103494 * t);
-        Y0 += 0.00000005625 * Math.cos(0.99982812641 + 42.0651889009 * t);
-        Y0 += 0.00000005495 * Math.cos(0.83010161211 + 158.9643659958 * t);
-        Y0 += 0.00000005484 * Math.cos(2.05186117586 + 293.7097682978 * t);
-        Y0 += 0.00000006460 * Math.cos(4.13915581935 + 956.2891559706 * t);
-        Y0 += 0.00000005543 * Math.cos(5.96744481273 + 188.2387494936 * t);
-        Y0 += 0.00000006364 * Math.cos(3.80553369638 + 809.0135806964 * t);
-        Y0 += 0.00000005577 * Math.cos(4.10482519606 + 168.6856522458 * t);
-        Y0 += 0.00000006551 * Math.cos(0.83934641149 + 1514.2912967165 * t);
-        Y0 += 0.00000007077 * Math.cos(5.51744981315 + 441.2672278623 * t);
-        Y0 += 0.00000006689 * Math.cos(5.42351008501 + 170.7126416753 * t);
-        Y0 += 0.00000006276 * Math.cos(4.68795182405 + 96.7611245105 * t);
-        Y0 += 0.00000007570 * Math.cos(1.01180557606 + 358.9301393095 * t);
-        Y0 += 0.00000005509 * Math.cos(4.78231890598 + 1235.6117715724 * t);
-        Y0 += 0.00000006352 * Math.cos(3.79204185042 + 369.9758395734 * t);
-        Y0 += 0.00000005383 * Math.cos(6.27032111126 + 817.7716590999 * t);
-        Y0 += 0.00000005492 * Math.cos(0.69694956792 + 89.338760969 * t);
-        Y0 += 0.00000005488 * Math.cos(2.09536181568 + 136.2298750103 * t);
-        Y0 += 0.00000006116 * Math.cos(2.19989108028 + 252.6559713532 * t);
-        Y0 += 0.00000005209 * Math.cos(0.50325710014 + 354.9979860464 * t);
-        Y0 += 0.00000006649 * Math.cos(3.14952088065 + 5994.9951559861 * t);
-        Y0 += 0.00000006243 * Math.cos(0.48442739628 + 86.6304479833 * t);
-        Y0 += 0.00000005460 * Math.cos(5.86544531140 + 27.7417266797 * t);
-        Y0 += 0.00000006432 * Math.cos(3.35626050583 + 524.2743391232 * t);
-        Y0 += 0.00000006045 * Math.cos(2.75503960638 + 181.0557665236 * t);
-        Y0 += 0.00000007138 * Math.cos(3.09631574158 + 2199.7652340692 * t);
-        Y0 += 0.00000005574 * Math.cos(6.17476595947 + 358.4088744477 * t);
-        Y0 += 0.00000005121 * Math.cos(1.19398299131 + 823.9914342234 * t);
-        Y0 += 0.00000005631 * Math.cos(2.90023214886 + 67.8804998876 * t);
-        Y0 += 0.00000005479 * Math.cos(2.12392901319 + 229.340730548 * t);
-        Y0 += 0.00000005296 * Math.cos(1.73996111678 + 65.8747623175 * t);
-        Y0 += 0.00000004956 * Math.cos(2.57399481330 + 450.1740641121 * t);
-        Y0 += 0.00000005382 * Math.cos(5.25698246848 + 269.9214467406 * t);
-        Y0 += 0.00000004899 * Math.cos(1.18975478010 + 123.0183784819 * t);
-        Y0 += 0.00000005115 * Math.cos(4.35560444308 + 691.1030116452 * t);
-        Y0 += 0.00000006347 * Math.cos(4.93421901844 + 300.8927512678 * t);
-        Y0 += 0.00000005407 * Math.cos(2.11877006223 + 147.9186657319 * t);
-        Y0 += 0.00000005610 * Math.cos(4.82031208158 + 164.3809919672 * t);
-        Y0 += 0.00000005903 * Math.cos(3.13251711248 + 1595.2926704073 * t);
-        Y0 += 0.00000006409 * Math.cos(4.61295823604 + 9925.2048522057 * t);
-        Y0 += 0.00000005054 * Math.cos(1.52779715235 + 343.7398374614 * t);
-        Y0 += 0.00000005898 * Math.cos(1.17168914170 + 711.4493070338 * t);
-        Y0 += 0.00000005830 * Math.cos(4.81800930195 + 215.7467759928 * t);
-        Y0 += 0.00000005465 * Math.cos(4.18395388726 + 49.6518166537 * t);
-        Y0 += 0.00000004962 * Math.cos(1.68095727826 + 40.2506477925 * t);
-        Y0 += 0.00000006619 * Math.cos(5.58001607792 + 104.5772469269 * t);
-        Y0 += 0.00000006198 * Math.cos(4.10613906306 + 29.7474642498 * t);
-        Y0 += 0.00000006038 * Math.cos(4.79649123590 + 1581.959348283 * t);
-        Y0 += 0.00000005637 * Math.cos(4.27082303931 + 461.1291416508 * t);
-        Y0 += 0.00000005966 * Math.cos(6.21670107028 + 475.3562356524 * t);
-        Y0 += 0.00000004734 * Math.cos(3.12449796048 + 1246.6574718363 * t);
-        Y0 += 0.00000005562 * Math.cos(1.99066275349 + 97.4155158163 * t);
-        Y0 += 0.00000005517 * Math.cos(0.15734159045 + 85.7154242466 * t);
-        Y0 += 0.00000005675 * Math.cos(3.90753165469 + 373.0142209592 * t);
-        Y0 += 0.00000005678 * Math.cos(2.45575163692 + 1291.4309737229 * t);
-        Y0 += 0.00000005473 * Math.cos(1.31181892044 + 118.8525250383 * t);
-        Y0 += 0.00000005562 * Math.cos(4.75165226491 + 469.7271613599 * t);
-        Y0 += 0.00000004792 * Math.cos(3.51144392647 + 257.3912737684 * t);
-        Y0 += 0.00000005402 * Math.cos(4.88902304378 + 170.0100662597 * t);
-        Y0 += 0.00000004598 * Math.cos(2.05332533302 + 155.1922714271 * t);
-        Y0 += 0.00000006214 * Math.cos(1.35052411760 + 442.7517005706 * t);
-        Y0 += 0.00000005988 * Math.cos(0.50320541583 + 194.1766403268 * t);
-        Y0 += 0.00000006196 * Math.cos(3.32366686883 + 612.1768114937 * t);
-        Y0 += 0.00000004509 * Math.cos(2.39066728384 + 106.4342266507 * t);
-        Y0 += 0.00000004989 * Math.cos(3.48472287325 + 53.653405886 * t);
-        Y0 += 0.00000006128 * Math.cos(1.41218645179 + 1288.4620283063 * t);
-        Y0 += 0.00000004508 * Math.cos(5.33731589869 + 240.3864308119 * t);
-        Y0 += 0.00000006167 * Math.cos(2.29263489637 + 206.706813299 * t);
-        Y0 += 0.00000004598 * Math.cos(1.27745263577 + 224.084163271 * t);
-        Y0 += 0.00000004907 * Math.cos(1.07886754186 + 470.6903692064 * t);
-        Y0 += 0.00000005173 * Math.cos(4.14114765790 + 635.9651330509 * t);
-        Y0 += 0.00000004359 * Math.cos(3.91866659735 + 294.3004691288 * t);
-        Y0 += 0.00000004518 * Math.cos(5.13302342435 + 529.851023789 * t);
-        Y0 += 0.00000004648 * Math.cos(3.41738055483 + 191.3195694948 * t);
-        Y0 += 0.00000004527 * Math.cos(4.89681935281 + 100.0543928328 * t);
-        Y0 += 0.00000004675 * Math.cos(0.74793286059 + 818.574808252 * t);
-        Y0 += 0.00000004894 * Math.cos(4.91824021653 + 127.5836711914 * t);
-        Y0 += 0.00000004503 * Math.cos(2.34824315382 + 529.5309064002 * t);
-        Y0 += 0.00000005755 * Math.cos(3.47614160575 + 896.3253522359 * t);
-        Y0 += 0.00000005038 * Math.cos(2.04655318056 + 346.3999663373 * t);
-        Y0 += 0.00000005109 * Math.cos(5.61003161097 + 44.9859502077 * t);
-        Y0 += 0.00000005415 * Math.cos(1.93853282815 + 193.9160078959 * t);
-        Y0 += 0.00000004870 * Math.cos(3.01914083748 + 1072.7152523135 * t);
-        Y0 += 0.00000004502 * Math.cos(5.84898608016 + 523.4711899711 * t);
-        Y0 += 0.00000005508 * Math.cos(4.72051414998 + 487.8864086246 * t);
-        Y0 += 0.00000005946 * Math.cos(4.65667500042 + 457.1969883877 * t);
-        Y0 += 0.00000004672 * Math.cos(2.79859052481 + 178.677521938 * t);
-        Y0 += 0.00000004318 * Math.cos(0.99378487572 + 1578.0271950199 * t);
-        Y0 += 0.00000005743 * Math.cos(3.56115198872 + 246.4361962297 * t);
-        Y0 += 0.00000005256 * Math.cos(0.82645339083 + 453.424893819 * t);
-        Y0 += 0.00000005380 * Math.cos(3.43490881372 + 444.2361732789 * t);
-        Y0 += 0.00000005597 * Math.cos(0.78287898333 + 771.1042942278 * t);
-        Y0 += 0.00000004689 * Math.cos(4.33230942667 + 213.9534867438 * t);
-        Y0 += 0.00000005661 * Math.cos(0.85799990392 + 315.1680293792 * t);
-        Y0 += 0.00000004910 * Math.cos(4.65280709692 + 1019.7644218431 * t);
-        Y0 += 0.00000004836 * Math.cos(2.67069000347 + 555.5544601911 * t);
-        Y0 += 0.00000005667 * Math.cos(5.10831237910 + 476.3194434989 * t);
-        Y0 += 0.00000004814 * Math.cos(4.45560046617 + 3041.4860324306 * t);
-        Y0 += 0.00000004196 * Math.cos(5.83265732730 + 181.6464673546 * t);
-        Y0 += 0.00000005081 * Math.cos(5.50274003196 + 223.4510238246 * t);
-        Y0 += 0.00000004119 * Math.cos(2.13510129984 + 2120.2483330867 * t);
-        Y0 += 0.00000004381 * Math.cos(3.00238354556 + 192.8040422031 * t);
-        Y0 += 0.00000004915 * Math.cos(5.97704604569 + 280.003939158 * t);
-        Y0 += 0.00000004692 * Math.cos(0.21351515154 + 335.1418177523 * t);
-        Y0 += 0.00000004739 * Math.cos(2.65624104210 + 25788.776747305 * t);
-        Y0 += 0.00000004505 * Math.cos(0.42320594676 + 158.7519176747 * t);
-        Y0 += 0.00000005697 * Math.cos(2.84928936803 + 772.5887669361 * t);
-        Y0 += 0.00000005524 * Math.cos(4.68675383722 + 491.8185618877 * t);
-        Y0 += 0.00000004207 * Math.cos(0.70498638267 + 1158.5425511447 * t);
-        Y0 += 0.00000004302 * Math.cos(2.50410696302 + 99.8419445117 * t);
-        Y0 += 0.00000004499 * Math.cos(1.69054737728 + 227.5956254088 * t);
-        Y0 += 0.00000004986 * Math.cos(0.94681765821 + 683.0262567979 * t);
-        Y0 += 0.00000005388 * Math.cos(0.76342177995 + 236.5024616586 * t);
-        Y0 += 0.00000005239 * Math.cos(3.48835357503 + 236.1936451179 * t);
-        Y0 += 0.00000005420 * Math.cos(3.85541340494 + 196.8367692027 * t);
-        Y0 += 0.00000003985 * Math.cos(1.74985561339 + 765.8846102125 * t);
-        Y0 += 0.00000005017 * Math.cos(2.82902794302 + 305.6068018236 * t);
-        Y0 += 0.00000005549 * Math.cos(2.55013138496 + 296.7481496836 * t);
-        Y0 += 0.00000003959 * Math.cos(3.93854751155 + 150.9357952583 * t);
-        Y0 += 0.00000003964 * Math.cos(5.16439207994 + 898.7730327907 * t);
-        Y0 += 0.00000004546 * Math.cos(0.76152857132 + 44.1828010556 * t);
-        Y0 += 0.00000004191 * Math.cos(1.28952699952 + 305.4580439773 * t);
-        Y0 += 0.00000003906 * Math.cos(1.61614597487 + 36.1754821775 * t);
-        Y0 += 0.00000004353 * Math.cos(6.26093399379 + 1360.7959463188 * t);
-        Y0 += 0.00000003887 * Math.cos(5.52990086078 + 1020.025054274 * t);
-        Y0 += 0.00000003999 * Math.cos(5.39158640547 + 55.8192021505 * t);
-        Y0 += 0.00000003999 * Math.cos(5.57100133771 + 93.7439949841 * t);
-        Y0 += 0.00000004086 * Math.cos(2.82476260110 + 168.5737776612 * t);
-        Y0 += 0.00000004059 * Math.cos(3.71867492753 + 605.275712814 * t);
-        Y0 += 0.00000004152 * Math.cos(2.40430598219 + 957.0923051227 * t);
-        Y0 += 0.00000004052 * Math.cos(3.22108869762 + 527.2432845398 * t);
-        Y0 += 0.00000004621 * Math.cos(4.84012764065 + 887.7273325268 * t);
-        Y0 += 0.00000003988 * Math.cos(4.88917159380 + 838.218528225 * t);
-        Y0 += 0.00000004087 * Math.cos(3.31579342541 + 770.3380283374 * t);
-        Y0 += 0.00000003954 * Math.cos(2.90730336124 + 383.3091616977 * t);
-        Y0 += 0.00000003919 * Math.cos(5.97203131124 + 325.9530972122 * t);
-        Y0 += 0.00000003864 * Math.cos(4.39331560943 + 661.0949149645 * t);
-        Y0 += 0.00000003829 * Math.cos(0.14712587806 + 627.3671133418 * t);
-        Y0 += 0.00000004658 * Math.cos(1.00953022027 + 621.7380390493 * t);
-        Y0 += 0.00000004055 * Math.cos(5.20456503366 + 139.1718881765 * t);
-        Y0 += 0.00000004774 * Math.cos(3.44138717156 + 379.0158022672 * t);
-        Y0 += 0.00000003836 * Math.cos(5.86821877824 + 980.6681783588 * t);
-        Y0 += 0.00000004300 * Math.cos(5.49265158827 + 302.637856407 * t);
-        Y0 += 0.00000003731 * Math.cos(2.11144668658 + 138.4056222861 * t);
-        Y0 += 0.00000004472 * Math.cos(3.91234474083 + 302.3772239761 * t);
-        Y0 += 0.00000004415 * Math.cos(3.74731379047 + 484.917463208 * t);
-        Y0 += 0.00000003879 * Math.cos(3.47723723889 + 525.4981794006 * t);
-        Y0 += 0.00000004584 * Math.cos(2.02399047239 + 30.1681553751 * t);
-        Y0 += 0.00000004326 * Math.cos(6.02567448655 + 1325.3712236667 * t);
-        Y0 += 0.00000004430 * Math.cos(2.72703097214 + 781.5961769224 * t);
-        Y0 += 0.00000003918 * Math.cos(3.85941866753 + 367.8582274187 * t);
-        Y0 += 0.00000003721 * Math.cos(0.89189960470 + 1474.9344208013 * t);
-        Y0 += 0.00000004770 * Math.cos(2.09028108448 + 589.3459522886 * t);
-        Y0 += 0.00000005123 * Math.cos(0.20460862447 + 786.2309056011 * t);
-        Y0 += 0.00000003737 * Math.cos(4.07017660543 + 909.9306076392 * t);
-        Y0 += 0.00000004851 * Math.cos(2.61214772786 + 893.3564068193 * t);
-        Y0 += 0.00000003662 * Math.cos(1.79348143509 + 137.5542890242 * t);
-        Y0 += 0.00000004682 * Math.cos(4.98128078945 + 374.7111419886 * t);
-        Y0 += 0.00000004268 * Math.cos(4.11953895138 + 847.5673074595 * t);
-        Y0 += 0.00000003781 * Math.cos(1.78800192594 + 1041.2226829245 * t);
-        Y0 += 0.00000004629 * Math.cos(5.06095468669 + 324.7292569348 * t);
-        Y0 += 0.00000003764 * Math.cos(3.93531242815 + 68.631259413 * t);
-        Y0 += 0.00000003764 * Math.cos(3.88568266144 + 80.9319377216 * t);
-        Y0 += 0.00000004074 * Math.cos(5.32356906771 + 121.2520214833 * t);
-        Y0 += 0.00000003647 * Math.cos(0.37271083980 + 154.5591319807 * t);
-        Y0 += 0.00000004248 * Math.cos(1.59557710453 + 291.1190753911 * t);
-        Y0 += 0.00000003625 * Math.cos(5.03930311956 + 243.0947437976 * t);
-        Y0 += 0.00000004702 * Math.cos(4.20458650202 + 292.8159964205 * t);
-        Y0 += 0.00000003671 * Math.cos(2.67932521049 + 699.7010313543 * t);
-        Y0 += 0.00000004647 * Math.cos(4.59791942784 + 700.7761137854 * t);
-        Y0 += 0.00000004582 * Math.cos(4.27719752642 + 119.3950417595 * t);
-        Y0 += 0.00000003607 * Math.cos(2.92960383588 + 812.9457339595 * t);
-        Y0 += 0.00000004176 * Math.cos(4.53729438891 + 305.2342948081 * t);
-        Y0 += 0.00000004107 * Math.cos(3.02040976577 + 1169.3276189777 * t);
-        Y0 += 0.00000004274 * Math.cos(5.55202962588 + 310.9752436852 * t);
-        Y0 += 0.00000004644 * Math.cos(4.88019478247 + 636.6677084665 * t);
-        Y0 += 0.00000004216 * Math.cos(1.83174409680 + 473.659314623 * t);
-        Y0 += 0.00000003589 * Math.cos(4.99117677975 + 1340.3490771937 * t);
-        Y0 += 0.00000004183 * Math.cos(4.66392569183 + 1574.8458012822 * t);
-        Y0 += 0.00000004020 * Math.cos(4.11186979424 + 356.9244017394 * t);
-        Y0 += 0.00000004670 * Math.cos(1.56528512709 + 695.0351649083 * t);
-        Y0 += 0.00000003973 * Math.cos(3.86247061466 + 523.7530742614 * t);
-        Y0 += 0.00000004284 * Math.cos(5.48575256159 + 686.958410061 * t);
-        Y0 += 0.00000004097 * Math.cos(1.83593259138 + 6137.4448061199 * t);
-        Y0 += 0.00000004758 * Math.cos(1.54259600301 + 901.9544265284 * t);
-        Y0 += 0.00000004866 * Math.cos(0.38498763434 + 822.8794685306 * t);
-        Y0 += 0.00000003661 * Math.cos(1.38674719917 + 320.1639642253 * t);
-        Y0 += 0.00000004418 * Math.cos(6.09138093441 + 658.6472344097 * t);
-        Y0 += 0.00000003744 * Math.cos(0.23704621175 + 1254.5217783625 * t);
-        Y0 += 0.00000004110 * Math.cos(0.50850463101 + 511.5317178299 * t);
-        Y0 += 0.00000003432 * Math.cos(4.78365888244 + 694.0719570618 * t);
-        Y0 += 0.00000003863 * Math.cos(5.74425607755 + 48.2367799146 * t);
-        Y0 += 0.00000003837 * Math.cos(1.38885578297 + 761.7400086283 * t);
-        Y0 += 0.00000004432 * Math.cos(5.42306462039 + 1685.0521225016 * t);
-        Y0 += 0.00000003835 * Math.cos(0.13280488709 + 313.42292424 * t);
-        Y0 += 0.00000004779 * Math.cos(2.94544355989 + 16.6110840816 * t);
-        Y0 += 0.00000003364 * Math.cos(5.63413232593 + 1049.8207026336 * t);
-        Y0 += 0.00000004033 * Math.cos(3.10416870974 + 548.6533615114 * t);
-        Y0 += 0.00000003551 * Math.cos(5.33275323151 + 1385.174968707 * t);
-        Y0 += 0.00000004361 * Math.cos(4.27096901239 + 1031.87390369 * t);
-        Y0 += 0.00000003751 * Math.cos(0.56092257594 + 1282.8329540138 * t);
-        Y0 += 0.00000004206 * Math.cos(0.51867441574 + 435.1962105851 * t);
-        Y0 += 0.00000003373 * Math.cos(5.55803472661 + 213.2509113282 * t);
-        Y0 += 0.00000003370 * Math.cos(2.47113963572 + 213.3472795478 * t);
-        Y0 += 0.00000004133 * Math.cos(2.69309010868 + 26087.9031415742 * t);
-        Y0 += 0.00000004643 * Math.cos(5.10102532835 + 6170.1612157863 * t);
-        Y0 += 0.00000003760 * Math.cos(5.29873313532 + 314.9073969483 * t);
-        Y0 += 0.00000003474 * Math.cos(1.81599961423 + 182.6096752011 * t);
-        Y0 += 0.00000003898 * Math.cos(4.83910213339 + 1056.4129847726 * t);
-        Y0 += 0.00000003948 * Math.cos(3.45809672503 + 270.1820791715 * t);
-        Y0 += 0.00000004025 * Math.cos(6.22179651521 + 432.2272651685 * t);
-        Y0 += 0.00000003592 * Math.cos(4.53264605132 + 250.6020496733 * t);
-        Y0 += 0.00000003866 * Math.cos(3.25864749062 + 10067.6545023395 * t);
-        Y0 += 0.00000003972 * Math.cos(4.86850120198 + 185.5786206177 * t);
-        Y0 += 0.00000003287 * Math.cos(5.02792890637 + 321.7603115182 * t);
-        Y0 += 0.00000004589 * Math.cos(6.17659620498 + 25483.43057791229 * t);
-        Y0 += 0.00000004308 * Math.cos(1.72886095548 + 516.0488264296 * t);
-        Y0 += 0.00000003824 * Math.cos(4.86838182782 + 6129.5804995937 * t);
-        Y0 += 0.00000003914 * Math.cos(1.59286207365 + 254.0922599517 * t);
-        Y0 += 0.00000004276 * Math.cos(5.28912748249 + 1034.8428491066 * t);
-        Y0 += 0.00000004580 * Math.cos(1.69358758590 + 2736.1398630379 * t);
-        Y0 += 0.00000003932 * Math.cos(5.67503368913 + 16.1535096946 * t);
-        Y0 += 0.00000004157 * Math.cos(4.37604672561 + 771.3012361839 * t);
-        Y0 += 0.00000003357 * Math.cos(5.26599059550 + 1182.9215735329 * t);
-        Y0 += 0.00000003802 * Math.cos(0.31702655607 + 498.4108440267 * t);
-        Y0 += 0.00000004524 * Math.cos(2.81439668092 + 526.9826521089 * t);
-        Y0 += 0.00000004197 * Math.cos(0.13935063439 + 630.3360587584 * t);
-        Y0 += 0.00000003980 * Math.cos(0.47806410404 + 433.190473015 * t);
-        Y0 += 0.00000003885 * Math.cos(5.95792292094 + 442.639825986 * t);
-        Y0 += 0.00000003519 * Math.cos(1.85756489257 + 613.8737325231 * t);
-        Y0 += 0.00000003513 * Math.cos(2.88278756465 + 188.0263011725 * t);
-        Y0 += 0.00000003436 * Math.cos(2.22930515523 + 517.4214245533 * t);
-        Y0 += 0.00000004478 * Math.cos(3.59865678356 + 439.782755154 * t);
-        Y0 += 0.00000003214 * Math.cos(1.04950977043 + 412.3710968744 * t);
-        Y0 += 0.00000003180 * Math.cos(4.31533563775 + 280.2163874791 * t);
-        Y0 += 0.00000003268 * Math.cos(2.43000508529 + 59.0005958882 * t);
-        Y0 += 0.00000003917 * Math.cos(3.58109182364 + 487.1045113319 * t);
-        Y0 += 0.00000003161 * Math.cos(0.04314663008 + 2002.9808544932 * t);
-        Y0 += 0.00000004307 * Math.cos(3.08432026736 + 269.0701134787 * t);
-        Y0 += 0.00000003534 * Math.cos(4.93365648849 + 78039.36462902068 * t);
-        Y0 += 0.00000003334 * Math.cos(5.87424656754 + 409.9234163196 * t);
-        Y0 += 0.00000003534 * Math.cos(1.66332277497 + 293.188503436 * t);
-        Y0 += 0.00000003178 * Math.cos(4.19263695155 + 1886.5547581503 * t);
-        Y0 += 0.00000003527 * Math.cos(4.44257226642 + 625.6701923124 * t);
-        Y0 += 0.00000004221 * Math.cos(3.28486189404 + 102.5020733876 * t);
-        Y0 += 0.00000003880 * Math.cos(6.15502337563 + 395.0574373772 * t);
-        Y0 += 0.00000003252 * Math.cos(5.49171969627 + 1016.0929010109 * t);
-        Y0 += 0.00000003211 * Math.cos(3.96787240218 + 151.5689347047 * t);
-        Y0 += 0.00000003204 * Math.cos(5.65877015739 + 1134.1635287565 * t);
-        Y0 += 0.00000003516 * Math.cos(2.35584399507 + 470.4934272503 * t);
-        Y0 += 0.00000003122 * Math.cos(2.68340120582 + 1596.1864422846 * t);
-        Y0 += 0.00000003360 * Math.cos(6.04785619263 + 391.976617376 * t);
-        Y0 += 0.00000004375 * Math.cos(0.24053416584 + 10100.3709120059 * t);
-        Y0 += 0.00000003602 * Math.cos(1.87398401659 + 450.7165808333 * t);
-        Y0 += 0.00000003390 * Math.cos(3.82992900330 + 5909.1678571549 * t);
-        Y0 += 0.00000003129 * Math.cos(5.68080322000 + 367.5975949878 * t);
-        Y0 += 0.00000003895 * Math.cos(5.38443342197 + 908.3342603463 * t);
-        Y0 += 0.00000003088 * Math.cos(2.91502414964 + 828.8173593638 * t);
-        Y0 += 0.00000004286 * Math.cos(2.93382005841 + 502.8642621516 * t);
-        Y0 += 0.00000003547 * Math.cos(5.90190558732 + 38.6061163898 * t);
-        Y0 += 0.00000003069 * Math.cos(2.00421290803 + 53.3233374859 * t);
-        Y0 += 0.00000003066 * Math.cos(3.18232490188 + 978.9712573294 * t);
-        Y0 += 0.00000003876 * Math.cos(5.24050330423 + 757.2865905034 * t);
-        Y0 += 0.00000003602 * Math.cos(0.00785737841 + 10059.7901958133 * t);
-        Y0 += 0.00000003701 * Math.cos(3.32793381044 + 669.0116111174 * t);
-        Y0 += 0.00000003492 * Math.cos(3.18924557683 + 473.4623726669 * t);
-        Y0 += 0.00000003277 * Math.cos(5.58265745425 + 302.8984888379 * t);
-        Y0 += 0.00000003972 * Math.cos(0.62147303592 + 980.146913497 * t);
-        Y0 += 0.00000003045 * Math.cos(0.45901625314 + 1190.7858800591 * t);
-        Y0 += 0.00000003556 * Math.cos(1.72055863101 + 366.1131222795 * t);
-        Y0 += 0.00000003047 * Math.cos(2.13930792847 + 74.5691502462 * t);
-        Y0 += 0.00000003047 * Math.cos(5.68168716112 + 74.9940468884 * t);
-        Y0 += 0.00000003604 * Math.cos(3.76279864957 + 362.0322111701 * t);
-        Y0 += 0.00000003631 * Math.cos(3.48017920050 + 2175.386211681 * t);
-        Y0 += 0.00000004281 * Math.cos(6.17088765144 + 469.1364605289 * t);
-        Y0 += 0.00000004032 * Math.cos(2.53505702317 + 243.3553762285 * t);
-        Y0 += 0.00000003319 * Math.cos(5.00194008223 + 102.523325247 * t);
-        Y0 += 0.00000003678 * Math.cos(2.04259335984 + 798.3885715578 * t);
-        Y0 += 0.00000003020 * Math.cos(1.70332824071 + 643.8294395771 * t);
-        Y0 += 0.00000003542 * Math.cos(1.77314432935 + 376.9463742223 * t);
-        Y0 += 0.00000004108 * Math.cos(3.83404968637 + 488.8496164711 * t);
-        Y0 += 0.00000003154 * Math.cos(5.49016454601 + 6533.1461289733 * t);
-        Y0 += 0.00000003365 * Math.cos(4.21348165403 + 1372.6447957348 * t);
-        Y0 += 0.00000003450 * Math.cos(0.04029729019 + 1205.9761819072 * t);
-        Y0 += 0.00000002993 * Math.cos(5.76942655237 + 182.279606801 * t);
-        Y0 += 0.00000003359 * Math.cos(6.11527569072 + 576.1613880106 * t);
-        Y0 += 0.00000002999 * Math.cos(2.15375666291 + 309.2783226558 * t);
-        Y0 += 0.00000003108 * Math.cos(3.36297518119 + 759.2923280735 * t);
-        Y0 += 0.00000004142 * Math.cos(0.48490269718 + 614.8369403696 * t);
-        Y0 += 0.00000004137 * Math.cos(1.16115371523 + 436.1594184316 * t);
-        Y0 += 0.00000003894 * Math.cos(3.31652794041 + 1894.4190646765 * t);
-        Y0 += 0.00000004107 * Math.cos(4.13508560420 + 549.7284439425 * t);
-        Y0 += 0.00000002976 * Math.cos(4.40870494577 + 1095.6098019934 * t);
-        Y0 += 0.00000003429 * Math.cos(2.03603945431 + 244.791664827 * t);
-        Y0 += 0.00000003551 * Math.cos(4.79004764777 + 261.9565664779 * t);
-        Y0 += 0.00000003571 * Math.cos(1.73924705151 + 245.5424243524 * t);
-        Y0 += 0.00000004116 * Math.cos(0.91321363317 + 195.4004806042 * t);
-        Y0 += 0.00000003764 * Math.cos(2.15920959028 + 751.0668153799 * t);
-        Y0 += 0.00000004087 * Math.cos(5.51343159668 + 6663.2036179514 * t);
-        Y0 += 0.00000002940 * Math.cos(0.97064608288 + 380.8785274854 * t);
-        Y0 += 0.00000002922 * Math.cos(5.32735300987 + 94.7553869404 * t);
-        Y0 += 0.00000002922 * Math.cos(5.63523473331 + 54.8078101942 * t);
-        Y0 += 0.00000002944 * Math.cos(3.31043387588 + 1257.7031721002 * t);
-        Y0 += 0.00000003189 * Math.cos(5.25244551844 + 9839.3775533745 * t);
-        Y0 += 0.00000003792 * Math.cos(1.83880598690 + 1147.4968508808 * t);
-        Y0 += 0.00000002928 * Math.cos(6.15649738369 + 47.2735720681 * t);
-        Y0 += 0.00000002914 * Math.cos(3.43637767180 + 379.3770084346 * t);
-        Y0 += 0.00000004097 * Math.cos(3.23026292909 + 2885.7030601725 * t);
-        Y0 += 0.00000003882 * Math.cos(0.33608583935 + 583.4080614554 * t);
-        Y0 += 0.00000004053 * Math.cos(1.43700749488 + 25632.99377504689 * t);
-        Y0 += 0.00000003746 * Math.cos(5.29804876077 + 5985.4339284305 * t);
-        Y0 += 0.00000003715 * Math.cos(1.78912631656 + 764.921402366 * t);
-        Y0 += 0.00000002876 * Math.cos(2.46513366154 + 90.5626012464 * t);
-        Y0 += 0.00000003840 * Math.cos(5.45031778630 + 827.1728279611 * t);
-        Y0 += 0.00000003496 * Math.cos(1.71669892763 + 3114.7831582896 * t);
-        Y0 += 0.00000003871 * Math.cos(1.99142366153 + 511.5954083047 * t);
-        Y0 += 0.00000002948 * Math.cos(1.96340890716 + 78338.49102328988 * t);
-        Y0 += 0.00000002901 * Math.cos(2.21466410541 + 493.5154829171 * t);
-        Y0 += 0.00000002872 * Math.cos(4.35227364990 + 429.7795846137 * t);
-        Y0 += 0.00000003051 * Math.cos(0.44154601815 + 430.5303441391 * t);
-        Y0 += 0.00000002938 * Math.cos(5.00889886419 + 590.2454696603 * t);
-        Y0 += 0.00000003898 * Math.cos(2.74281508905 + 669.6929346736 * t);
-        Y0 += 0.00000003354 * Math.cos(4.29548223894 + 632.0329797878 * t);
-        Y0 += 0.00000003036 * Math.cos(2.72434442822 + 328.9220426288 * t);
-        Y0 += 0.00000003002 * Math.cos(0.18956003485 + 1061.6695520496 * t);
-        Y0 += 0.00000003276 * Math.cos(3.00636571119 + 520.129737539 * t);
-        Y0 += 0.00000003016 * Math.cos(2.64916865285 + 132.5796060375 * t);
-        Y0 += 0.00000003851 * Math.cos(4.25270851705 + 224.9354965329 * t);
-        Y0 += 0.00000003686 * Math.cos(5.67893032773 + 477.9157907918 * t);
-        Y0 += 0.00000003801 * Math.cos(5.95545646315 + 3117.7521037062 * t);
-        Y0 += 0.00000002836 * Math.cos(1.20341125847 + 373.535485821 * t);
-        Y0 += 0.00000003186 * Math.cos(1.44507525550 + 53.6321540266 * t);
-        Y0 += 0.00000003504 * Math.cos(0.16804844040 + 6272.0301497275 * t);
-        Y0 += 0.00000003733 * Math.cos(1.03466079195 + 909.70685847 * t);
-        Y0 += 0.00000003219 * Math.cos(1.56423135935 + 519.6084726772 * t);
-        Y0 += 0.00000003184 * Math.cos(1.08716105218 + 5982.4649830139 * t);
-        Y0 += 0.00000003789 * Math.cos(2.99891680203 + 1054.9285120643 * t);
-        Y0 += 0.00000002984 * Math.cos(5.13821226511 + 162.635886828 * t);
-        Y0 += 0.00000003563 * Math.cos(5.99821639641 + 1336.4169239306 * t);
-        Y0 += 0.00000002902 * Math.cos(0.22050049109 + 47.2211824414 * t);
-        Y0 += 0.00000002902 * Math.cos(4.45890194491 + 102.3420146932 * t);
-        Y0 += 0.00000003516 * Math.cos(5.73369868016 + 1094.8066528413 * t);
-        Y0 += 0.00000003254 * Math.cos(5.74820689948 + 482.3692089167 * t);
-        Y0 += 0.00000003939 * Math.cos(1.61262063639 + 6096.8640899273 * t);
-        Y0 += 0.00000002921 * Math.cos(1.87863990334 + 340.8827666294 * t);
-        Y0 += 0.00000002802 * Math.cos(0.40865505421 + 1592.0418407004 * t);
-        Y0 += 0.00000003387 * Math.cos(6.19933351520 + 25862.073873164 * t);
-        Y0 += 0.00000003884 * Math.cos(0.65443948228 + 10593.413314171 * t);
-        Y0 += 0.00000002854 * Math.cos(3.71549072767 + 227.9681324243 * t);
-        Y0 += 0.00000003870 * Math.cos(0.74129906666 + 2124.9836355019 * t);
-        Y0 += 0.00000003048 * Math.cos(4.51779447707 + 6530.1771835567 * t);
-        Y0 += 0.00000002791 * Math.cos(1.68241228451 + 698.0041103249 * t);
-        Y0 += 0.00000003265 * Math.cos(0.17507793485 + 265.7286610466 * t);
-        Y0 += 0.00000003666 * Math.cos(3.65480173708 + 415.6643651967 * t);
-        Y0 += 0.00000003430 * Math.cos(1.34035853413 + 748.0978699633 * t);
-        Y0 += 0.00000002806 * Math.cos(4.02233962356 + 281.4884118663 * t);
-        Y0 += 0.00000002775 * Math.cos(2.76210601485 + 551.7823656224 * t);
-        Y0 += 0.00000003696 * Math.cos(4.15453207290 + 25865.04281858059 * t);
-        Y0 += 0.00000002816 * Math.cos(0.52106074112 + 294.5611015597 * t);
-        Y0 += 0.00000002850 * Math.cos(2.08930376377 + 529.6427809848 * t);
-        Y0 += 0.00000002804 * Math.cos(3.60450579406 + 2088.8081533244 * t);
-        Y0 += 0.00000002766 * Math.cos(0.96756499866 + 1600.1185955477 * t);
-        Y0 += 0.00000002753 * Math.cos(2.67377558669 + 1160.8301730051 * t);
-        Y0 += 0.00000003634 * Math.cos(1.43359949431 + 77.6386693993 * t);
-        Y0 += 0.00000003634 * Math.cos(0.10421028810 + 71.9245277353 * t);
-        Y0 += 0.00000002846 * Math.cos(5.39242401629 + 529.7391492044 * t);
-        Y0 += 0.00000003082 * Math.cos(4.33431584897 + 436.7501192626 * t);
-        Y0 += 0.00000003846 * Math.cos(4.24087562170 + 113.4571509263 * t);
-        Y0 += 0.00000002933 * Math.cos(6.06497119365 + 829.6205085159 * t);
-        Y0 += 0.00000002835 * Math.cos(4.82037050662 + 778.4147831847 * t);
-        Y0 += 0.00000003310 * Math.cos(2.22728155735 + 201.2901873276 * t);
-        Y0 += 0.00000003647 * Math.cos(1.66673052655 + 9991.9096959257 * t);
-        Y0 += 0.00000002957 * Math.cos(2.32106806068 + 53.5839699168 * t);
-        Y0 += 0.00000002835 * Math.cos(2.43989307879 + 323.2447842265 * t);
-        Y0 += 0.00000002912 * Math.cos(4.17865979485 + 428.0826635843 * t);
-        Y0 += 0.00000003176 * Math.cos(0.90264657780 + 529.4303326637 * t);
-        Y0 += 0.00000003230 * Math.cos(4.05101926110 + 554.1818620674 * t);
-        Y0 += 0.00000003594 * Math.cos(0.23253704183 + 6061.6999997061 * t);
-        Y0 += 0.00000003560 * Math.cos(5.55379390271 + 623.4349600787 * t);
-        Y0 += 0.00000003090 * Math.cos(0.25190671199 + 529.9515975255 * t);
-        Y0 += 0.00000002843 * Math.cos(3.58407040366 + 1447.4263943021 * t);
-        Y0 += 0.00000002762 * Math.cos(3.04100014906 + 465.273743235 * t);
-        Y0 += 0.00000002975 * Math.cos(2.63804412296 + 224.1847370075 * t);
-        Y0 += 0.00000002965 * Math.cos(2.13824743631 + 1586.1039498672 * t);
-        Y0 += 0.00000002997 * Math.cos(3.56715815371 + 29.7956483596 * t);
-        Y0 += 0.00000003017 * Math.cos(5.24948877556 + 829.4080601948 * t);
-        Y0 += 0.00000002748 * Math.cos(3.72166746073 + 1755.9015678058 * t);
-        Y0 += 0.00000002985 * Math.cos(2.48649457568 + 753.3544372403 * t);
-        Y0 += 0.00000002708 * Math.cos(1.50130862618 + 457.3570470821 * t);
-        Y0 += 0.00000003710 * Math.cos(1.48433193644 + 905.3653149297 * t);
-        Y0 += 0.00000002723 * Math.cos(5.37610390085 + 1606.3383706712 * t);
-        Y0 += 0.00000003498 * Math.cos(0.43668593773 + 9915.6436246501 * t);
-        Y0 += 0.00000002713 * Math.cos(4.37303090454 + 1533.2536931333 * t);
-        Y0 += 0.00000002941 * Math.cos(6.11824676700 + 147.8662761052 * t);
-        Y0 += 0.00000003425 * Math.cos(0.17462176427 + 914.4845995006 * t);
-        Y0 += 0.00000003382 * Math.cos(1.70671662802 + 881.5075574033 * t);
-        Y0 += 0.00000002973 * Math.cos(3.93511754722 + 384.0599212231 * t);
-        Y0 += 0.00000002967 * Math.cos(2.94512740245 + 1541.8517128424 * t);
-        Y0 += 0.00000003519 * Math.cos(1.73310854320 + 6354.8885031421 * t);
-        Y0 += 0.00000002666 * Math.cos(2.78512581244 + 96.2398596487 * t);
-        Y0 += 0.00000003354 * Math.cos(0.53706358244 + 919.3799606102 * t);
-        Y0 += 0.00000003062 * Math.cos(5.84703572260 + 1062.5633239269 * t);
-        Y0 += 0.00000002798 * Math.cos(4.80243373625 + 112.4939430798 * t);
-        Y0 += 0.00000003460 * Math.cos(4.46783856107 + 156.043604689 * t);
-        Y0 += 0.00000002982 * Math.cos(2.51020549025 + 9912.6746792335 * t);
-        Y0 += 0.00000002640 * Math.cos(3.23926189708 + 487.1526954417 * t);
-        Y0 += 0.00000002709 * Math.cos(0.30663917652 + 187.2755416471 * t);
-        Y0 += 0.00000003518 * Math.cos(2.12743549234 + 1136.4511506169 * t);
-        Y0 += 0.00000003486 * Math.cos(3.53728933221 + 313.9441891018 * t);
-        Y0 += 0.00000003709 * Math.cos(3.03522154561 + 10027.0737861469 * t);
-        Y0 += 0.00000003061 * Math.cos(2.34062051277 + 789.4604834486 * t);
-        Y0 += 0.00000003010 * Math.cos(0.65377897818 + 1605.5876111458 * t);
-        Y0 += 0.00000002904 * Math.cos(2.32569156001 + 1456.0244140112 * t);
-        Y0 += 0.00000003053 * Math.cos(1.71668201402 + 997.9336537462 * t);
-        Y0 += 0.00000002743 * Math.cos(6.27362704729 + 678.3603903519 * t);
-        Y0 += 0.00000002969 * Math.cos(5.75647236111 + 1830.6831663731 * t);
-        Y0 += 0.00000003651 * Math.cos(1.08114724446 + 26542.81250810149 * t);
-        Y0 += 0.00000002889 * Math.cos(1.97248432294 + 1585.9438911728 * t);
-        Y0 += 0.00000002727 * Math.cos(5.15143966251 + 1063.8353483141 * t);
-        Y0 += 0.00000002848 * Math.cos(5.07132119764 + 395.9087706391 * t);
-        Y0 += 0.00000002634 * Math.cos(5.98468816235 + 608.2446582306 * t);
-        Y0 += 0.00000002901 * Math.cos(4.64274585102 + 1541.1179996595 * t);
-        Y0 += 0.00000002941 * Math.cos(1.21210665628 + 12564.6672272745 * t);
-        Y0 += 0.00000003304 * Math.cos(0.86856001646 + 273.1510245881 * t);
-        Y0 += 0.00000003386 * Math.cos(0.57596770758 + 387.2413149608 * t);
-        Y0 += 0.00000002627 * Math.cos(2.39653571473 + 1452.8430202735 * t);
-        Y0 += 0.00000003041 * Math.cos(4.27587243964 + 752.5512880882 * t);
-        Y0 += 0.00000002718 * Math.cos(5.16293058088 + 52325.36948028299 * t);
-        Y0 += 0.00000003085 * Math.cos(2.35859653048 + 93.531546663 * t);
-        Y0 += 0.00000002906 * Math.cos(2.44478802558 + 1322.9235431119 * t);
-        Y0 += 0.00000003597 * Math.cos(4.95428287884 + 132.0370893163 * t);
-        Y0 += 0.00000002678 * Math.cos(5.06105300688 + 951.4632308302 * t);
-        Y0 += 0.00000003123 * Math.cos(3.33951755709 + 623.2225117576 * t);
-        Y0 += 0.00000003367 * Math.cos(0.37689386562 + 247.8300462128 * t);
-        Y0 += 0.00000003472 * Math.cos(1.87505610471 + 552.6973893591 * t);
-        Y0 += 0.00000003166 * Math.cos(2.20892033116 + 12567.6361726911 * t);
-        Y0 += 0.00000003387 * Math.cos(3.15594347013 + 10285.0981993617 * t);
-        Y0 += 0.00000003300 * Math.cos(3.72087032435 + 440.8947208468 * t);
-        Y0 += 0.00000003236 * Math.cos(2.72076744752 + 412.5835451955 * t);
-        Y0 += 0.00000002557 * Math.cos(1.79723576941 + 537.3952129264 * t);
-        Y0 += 0.00000002560 * Math.cos(1.10053759744 + 2117.2793876701 * t);
-        Y0 += 0.00000002831 * Math.cos(2.72459987741 + 539.773457512 * t);
-        Y0 += 0.00000003376 * Math.cos(1.67356612440 + 10202.2398459471 * t);
-        Y0 += 0.00000003188 * Math.cos(2.12663576409 + 769.6198215195 * t);
-        Y0 += 0.00000003464 * Math.cos(4.16794893326 + 161.4120465506 * t);
-        Y0 += 0.00000002781 * Math.cos(5.73975225276 + 1268.7488723641 * t);
-        Y0 += 0.00000003014 * Math.cos(5.61429333063 + 1544.0869450761 * t);
-        Y0 += 0.00000003298 * Math.cos(4.97310496761 + 463.2467538055 * t);
-        Y0 += 0.00000002524 * Math.cos(3.68420351785 + 960.0612505393 * t);
-        Y0 += 0.00000003187 * Math.cos(3.05030888971 + 196.8849533125 * t);
-        Y0 += 0.00000002787 * Math.cos(5.49834615270 + 229.4526051326 * t);
-        Y0 += 0.00000003097 * Math.cos(3.52576662964 + 1553.6481726317 * t);
-        Y0 += 0.00000002679 * Math.cos(0.04691756129 + 1374.1292684431 * t);
-        Y0 += 0.00000003315 * Math.cos(0.94177030624 + 807.7528571573 * t);
-        Y0 += 0.00000002630 * Math.cos(4.76272198714 + 743.7932096847 * t);
-        Y0 += 0.00000002929 * Math.cos(1.45546976184 + 304.2342036999 * t);
-        Y0 += 0.00000002983 * Math.cos(1.81727185185 + 936.6454359976 * t);
-        Y0 += 0.00000003184 * Math.cos(3.60984848538 + 480.8847362084 * t);
-        Y0 += 0.00000002864 * Math.cos(0.19987911757 + 2192.6516870684 * t);
-        Y0 += 0.00000002513 * Math.cos(3.00481326052 + 20278.49236799569 * t);
-        Y0 += 0.00000003268 * Math.cos(3.74882408270 + 2424.1100297711 * t);
-        Y0 += 0.00000003101 * Math.cos(2.50688447718 + 657.4233941323 * t);
-        Y0 += 0.00000003267 * Math.cos(4.76208168321 + 737.4246767149 * t);
-        Y0 += 0.00000002692 * Math.cos(2.92740740512 + 339.3982939211 * t);
-        Y0 += 0.00000003124 * Math.cos(4.14366392888 + 586.377006872 * t);
-        Y0 += 0.00000002517 * Math.cos(4.27302625046 + 583.8656358424 * t);
-        Y0 += 0.00000003352 * Math.cos(0.45988110388 + 697.8071683688 * t);
-        Y0 += 0.00000002806 * Math.cos(4.14739692323 + 351.7047177241 * t);
-        Y0 += 0.00000003457 * Math.cos(3.00986343392 + 809.2373298656 * t);
-        Y0 += 0.00000002544 * Math.cos(2.76607764684 + 262.8078997398 * t);
-        Y0 += 0.00000003384 * Math.cos(5.68724975258 + 1056.2005364515 * t);
-        Y0 += 0.00000002549 * Math.cos(1.11525653405 + 410.1358646407 * t);
-        Y0 += 0.00000002570 * Math.cos(3.71065706169 + 584.8288436889 * t);
-        Y0 += 0.00000003040 * Math.cos(0.67193319059 + 52174.32181044009 * t);
-        Y0 += 0.00000002505 * Math.cos(1.51987196875 + 382.1335055301 * t);
-        Y0 += 0.00000002718 * Math.cos(0.91308619680 + 351.9284668933 * t);
-        Y0 += 0.00000002512 * Math.cos(0.55220125147 + 826.4391147782 * t);
-        Y0 += 0.00000002579 * Math.cos(4.05664047063 + 1055.4497769261 * t);
-        Y0 += 0.00000003139 * Math.cos(3.92383754684 + 938.1299087059 * t);
-        Y0 += 0.00000002672 * Math.cos(4.27622188274 + 319.5732633943 * t);
-        Y0 += 0.00000002663 * Math.cos(4.68514908243 + 587.7977891055 * t);
-        Y0 += 0.00000003119 * Math.cos(5.12688430370 + 849.2642284889 * t);
-        Y0 += 0.00000002427 * Math.cos(2.03247076769 + 20275.52342257909 * t);
-        Y0 += 0.00000002941 * Math.cos(4.11705902960 + 581.1573228567 * t);
-        Y0 += 0.00000002796 * Math.cos(3.05213138528 + 598.5346728287 * t);
-        Y0 += 0.00000002732 * Math.cos(1.88140426939 + 1332.4847706675 * t);
-        Y0 += 0.00000002438 * Math.cos(5.93929793621 + 395.105621487 * t);
-        Y0 += 0.00000002430 * Math.cos(5.98723272672 + 1404.0849754971 * t);
-        Y0 += 0.00000002421 * Math.cos(3.87174798038 + 1159.3457002968 * t);
-        Y0 += 0.00000003017 * Math.cos(0.07530862396 + 626.4039054953 * t);
-        Y0 += 0.00000002419 * Math.cos(0.67634283278 + 101.6083015103 * t);
-        Y0 += 0.00000003294 * Math.cos(5.11603242406 + 415.2918581812 * t);
-        Y0 += 0.00000003091 * Math.cos(5.60736082610 + 911.515654084 * t);
-        Y0 += 0.00000002923 * Math.cos(4.44263378398 + 239.1625905345 * t);
-        Y0 += 0.00000002424 * Math.cos(1.25508260924 + 243.8978929497 * t);
-        Y0 += 0.00000002693 * Math.cos(0.57305838132 + 299.7170951002 * t);
-        Y0 += 0.00000003109 * Math.cos(4.52636545098 + 45.0341343175 * t);
-        Y0 += 0.00000002834 * Math.cos(4.62881913391 + 540.0553418023 * t);
-        Y0 += 0.00000002704 * Math.cos(5.26938493529 + 988.532484885 * t);
-        Y0 += 0.00000002931 * Math.cos(6.24282698359 + 173.1390703707 * t);
-        Y0 += 0.00000002783 * Math.cos(3.74686867266 + 889.2118052351 * t);
-        Y0 += 0.00000002376 * Math.cos(3.93854491753 + 1928.1992559259 * t);
-        Y0 += 0.00000002928 * Math.cos(3.84949885104 + 609.2078660771 * t);
-        Y0 += 0.00000002536 * Math.cos(4.52810767132 + 1330.7878496381 * t);
-        Y0 += 0.00000002571 * Math.cos(4.97875573478 + 1536.2226385499 * t);
-        Y0 += 0.00000002402 * Math.cos(3.02566960132 + 482.2573343321 * t);
-        Y0 += 0.00000002667 * Math.cos(0.08605014098 + 257.9125386302 * t);
-        Y0 += 0.00000002446 * Math.cos(3.55712633832 + 1327.8189042215 * t);
-        Y0 += 0.00000002936 * Math.cos(5.43084141603 + 1424.5318446222 * t);
-        Y0 += 0.00000002990 * Math.cos(4.21802632552 + 106.8648687873 * t);
-        Y0 += 0.00000002473 * Math.cos(1.24525371169 + 1407.2663692348 * t);
-        Y0 += 0.00000003304 * Math.cos(1.01660703804 + 653.2306084383 * t);
-        Y0 += 0.00000003237 * Math.cos(2.56557965333 + 394.9455627926 * t);
-        Y0 += 0.00000003085 * Math.cos(3.83028822685 + 1057.8974574809 * t);
-        Y0 += 0.00000002346 * Math.cos(5.14974725027 + 1211.2327491842 * t);
-        Y0 += 0.00000002710 * Math.cos(0.34192435133 + 1012.9115072732 * t);
-        Y0 += 0.00000002716 * Math.cos(5.47695438076 + 444.8268741099 * t);
-        Y0 += 0.00000002887 * Math.cos(5.24452328663 + 138.6293714553 * t);
-        Y0 += 0.00000002421 * Math.cos(2.29541366768 + 672.9437643805 * t);
-        Y0 += 0.00000002354 * Math.cos(3.20939683542 + 1522.2079928694 * t);
-        Y0 += 0.00000002796 * Math.cos(2.30140691707 + 291.0496394219 * t);
-        Y0 += 0.00000002759 * Math.cos(0.69873056680 + 274.0660483248 * t);
-        Y0 += 0.00000002341 * Math.cos(3.48938979666 + 1811.773159583 * t);
-        Y0 += 0.00000003229 * Math.cos(3.79365838838 + 476.4313180835 * t);
-        Y0 += 0.00000003251 * Math.cos(0.33431351861 + 83.1671699553 * t);
-        Y0 += 0.00000002562 * Math.cos(1.57334927608 + 696.5196376166 * t);
-        Y0 += 0.00000002339 * Math.cos(0.49543749317 + 334.5511169213 * t);
-        Y0 += 0.00000003028 * Math.cos(1.40154871551 + 479.4002635001 * t);
-        Y0 += 0.00000002358 * Math.cos(2.81370331769 + 1117.7012025212 * t);
-        Y0 += 0.00000002323 * Math.cos(1.27765520019 + 386.3475430835 * t);
-        Y0 += 0.00000002536 * Math.cos(5.06956843952 + 207.3612046048 * t);
-        Y0 += 0.00000002332 * Math.cos(6.18372771815 + 274.5873131866 * t);
-        Y0 += 0.00000002908 * Math.cos(5.49277538439 + 650.9429865779 * t);
-        Y0 += 0.00000002357 * Math.cos(2.87538390843 + 378.1220303899 * t);
-        Y0 += 0.00000002524 * Math.cos(4.12720854166 + 441.1553532777 * t);
-        Y0 += 0.00000002876 * Math.cos(4.06628438217 + 6812.766815086 * t);
-        Y0 += 0.00000003196 * Math.cos(4.27507120094 + 3267.3153008408 * t);
-        Y0 += 0.00000003198 * Math.cos(2.47530039454 + 26014.60601571519 * t);
-        Y0 += 0.00000002550 * Math.cos(3.69428121427 + 0.3725070155 * t);
-        Y0 += 0.00000002566 * Math.cos(1.92901626939 + 1699.2792165032 * t);
-        Y0 += 0.00000002830 * Math.cos(0.44131453952 + 1310.3933701397 * t);
-        Y0 += 0.00000002662 * Math.cos(5.07234973989 + 271.4059194489 * t);
-        Y0 += 0.00000002360 * Math.cos(2.93302472978 + 1297.0600480154 * t);
-        Y0 += 0.00000002609 * Math.cos(1.38212057067 + 1402.8611352197 * t);
-        Y0 += 0.00000002444 * Math.cos(5.39930706114 + 175.820451106 * t);
-        Y0 += 0.00000002345 * Math.cos(1.75996538528 + 268.9582388941 * t);
-        Y0 += 0.00000002922 * Math.cos(2.46467683220 + 1599.9585368533 * t);
-        Y0 += 0.00000002333 * Math.cos(4.96787363671 + 173.0484476455 * t);
-        Y0 += 0.00000003176 * Math.cos(3.13360533407 + 349.3689117539 * t);
-        Y0 += 0.00000002674 * Math.cos(5.89637390339 + 519.0177718462 * t);
-        Y0 += 0.00000002585 * Math.cos(5.75668127095 + 754.0357607965 * t);
-        Y0 += 0.00000002274 * Math.cos(2.20397387999 + 325.7930385178 * t);
-        Y0 += 0.00000002991 * Math.cos(2.24695380440 + 625.9945152181 * t);
-        Y0 += 0.00000002297 * Math.cos(3.64732215382 + 1186.853726796 * t);
-        Y0 += 0.00000002289 * Math.cos(0.18602310852 + 764.1876891831 * t);
-        Y0 += 0.00000002426 * Math.cos(1.18176367445 + 57.7980074702 * t);
-        Y0 += 0.00000002781 * Math.cos(1.71828175775 + 122.0551706354 * t);
-        Y0 += 0.00000002771 * Math.cos(5.78898116165 + 431.3334932912 * t);
-        Y0 += 0.00000002315 * Math.cos(2.30897495417 + 290.3683158657 * t);
-        Y0 += 0.00000003167 * Math.cos(3.17998251025 + 26161.20026743319 * t);
-        Y0 += 0.00000002812 * Math.cos(0.30378867410 + 317.8763423649 * t);
-        Y0 += 0.00000002567 * Math.cos(5.96612214384 + 63.4752658725 * t);
-        Y0 += 0.00000002988 * Math.cos(2.07029207874 + 459.0539681115 * t);
-        Y0 += 0.00000002282 * Math.cos(0.94739204341 + 811.4612612512 * t);
-        Y0 += 0.00000003122 * Math.cos(6.04989173004 + 939.6143814142 * t);
-        Y0 += 0.00000002437 * Math.cos(5.09941116678 + 376.8769382531 * t);
-        Y0 += 0.00000002474 * Math.cos(1.06279254184 + 668.2084619653 * t);
-        Y0 += 0.00000002258 * Math.cos(1.11320177291 + 714.6788848813 * t);
-        Y0 += 0.00000002764 * Math.cos(4.48820557495 + 730.4598875604 * t);
-        Y0 += 0.00000002550 * Math.cos(1.57405733078 + 838.9692877504 * t);
-        Y0 += 0.00000002259 * Math.cos(3.10988614223 + 113.3877149571 * t);
-        Y0 += 0.00000002598 * Math.cos(3.43909924140 + 763.2244813366 * t);
-        Y0 += 0.00000002663 * Math.cos(1.29799990848 + 412.3229127646 * t);
-        Y0 += 0.00000003160 * Math.cos(2.89419390415 + 3795.5217932271 * t);
-        Y0 += 0.00000003073 * Math.cos(4.51064673286 + 533.8355666788 * t);
-        Y0 += 0.00000002358 * Math.cos(4.32524569167 + 582.3811631341 * t);
-        Y0 += 0.00000002903 * Math.cos(2.47602120581 + 650.0492147006 * t);
-        Y0 += 0.00000002235 * Math.cos(2.54876348474 + 1321.4390704036 * t);
-        Y0 += 0.00000003142 * Math.cos(4.67154281030 + 725.0914456988 * t);
-        Y0 += 0.00000002795 * Math.cos(5.48464550951 + 10742.9765113056 * t);
-        Y0 += 0.00000002476 * Math.cos(2.98955635425 + 347.9326231554 * t);
-        Y0 += 0.00000002240 * Math.cos(5.07382933289 + 503.6674113037 * t);
-        Y0 += 0.00000002227 * Math.cos(5.09224345859 + 3259.1471642584 * t);
-        Y0 += 0.00000002477 * Math.cos(2.43769900185 + 821.5437536686 * t);
-        Y0 += 0.00000002287 * Math.cos(4.33583576059 + 1023.7971488427 * t);
-        Y0 += 0.00000002275 * Math.cos(1.69598721089 + 872.9095376942 * t);
-        Y0 += 0.00000002222 * Math.cos(3.53508839460 + 567.8240007324 * t);
-        Y0 += 0.00000003088 * Math.cos(4.00968174537 + 230.2826865351 * t);
-        Y0 += 0.00000002224 * Math.cos(5.85972920055 + 1258.4539316256 * t);
-        Y0 += 0.00000002685 * Math.cos(1.40856509045 + 303.5798123941 * t);
-        Y0 += 0.00000002261 * Math.cos(3.38321360452 + 123.960334469 * t);
-        Y0 += 0.00000002935 * Math.cos(1.94498224386 + 714.4182524504 * t);
-        Y0 += 0.00000002414 * Math.cos(5.05858383723 + 360.5477384618 * t);
-        Y0 += 0.00000002435 * Math.cos(2.03044146979 + 355.7487455718 * t);
-        Y0 += 0.00000002219 * Math.cos(2.99148584824 + 620.253566341 * t);
-        Y0 += 0.00000003094 * Math.cos(4.98104987238 + 3413.9095525588 * t);
-        Y0 += 0.00000002710 * Math.cos(4.45593115194 + 659.674132731 * t);
-        Y0 += 0.00000002209 * Math.cos(1.41204774183 + 1119.1856752295 * t);
-        Y0 += 0.00000002655 * Math.cos(0.05464835282 + 104.5290628171 * t);
-        Y0 += 0.00000002358 * Math.cos(6.22232256487 + 1367.6970449985 * t);
-        Y0 += 0.00000002230 * Math.cos(3.64177230224 + 442.3791935551 * t);
-        Y0 += 0.00000002421 * Math.cos(1.45420989199 + 449.2802922348 * t);
-        Y0 += 0.00000002330 * Math.cos(0.84390251807 + 820.8100404857 * t);
-        Y0 += 0.00000002493 * Math.cos(1.52678527478 + 316.6525020875 * t);
-        Y0 += 0.00000002712 * Math.cos(2.90893885884 + 770.5504766585 * t);
-        Y0 += 0.00000002758 * Math.cos(2.91988907092 + 1381.2428154439 * t);
-        Y0 += 0.00000002673 * Math.cos(1.39898893375 + 983.1158589136 * t);
-        Y0 += 0.00000002340 * Math.cos(2.12360206268 + 972.0701586497 * t);
-        Y0 += 0.00000002847 * Math.cos(0.89078483426 + 219.5188705615 * t);
-        Y0 += 0.00000002458 * Math.cos(2.25842855808 + 1448.9108670104 * t);
-        Y0 += 0.00000002627 * Math.cos(1.91388837247 + 768.8535556291 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 659 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.02157896385;
-        Y1 += 0.00739227349 * Math.cos(4.43963890935 + 149.5631971346 * t);
-        Y1 += 0.00238545685 * Math.cos(3.76882493145 + 73.297125859 * t);
-        Y1 += 0.00229396424 * Math.cos(0.91090183978 + 76.2660712756 * t);
-        Y1 += 0.00110137111 * Math.cos(4.00844441616 + 11.0457002639 * t);
-        Y1 += 0.00094979054 * Math.cos(5.07141537066 + 63.7358983034 * t);
-        Y1 += 0.00081474163 * Math.cos(5.92275367106 + 85.8272988312 * t);
-        Y1 += 0.00045457174 * Math.cos(0.73292241207 + 138.5174968707 * t);
-        Y1 += 0.00051366974 * Math.cos(0.61844114994 + 224.3447957019 * t);
-        Y1 += 0.00038296005 * Math.cos(5.01873578671 + 70.8494453042 * t);
-        Y1 += 0.00036146116 * Math.cos(5.94859452787 + 78.7137518304 * t);
-        Y1 += 0.00032420558 * Math.cos(4.32617271732 + 74.7815985673 * t);
-        Y1 += 0.00021673269 * Math.cos(3.36607263522 + 151.0476698429 * t);
-        Y1 += 0.00019425087 * Math.cos(6.01842187783 + 77.7505439839 * t);
-        Y1 += 0.00017393206 * Math.cos(4.96098895488 + 71.8126531507 * t);
-        Y1 += 0.00014991169 * Math.cos(3.97176856758 + 3.9321532631 * t);
-        Y1 += 0.00007732367 * Math.cos(0.04256630122 + 71.6002048296 * t);
-        Y1 += 0.00007438492 * Math.cos(4.63165436478 + 77.962992305 * t);
-        Y1 += 0.00006979238 * Math.cos(0.83723520791 + 145.6310438715 * t);
-        Y1 += 0.00007321559 * Math.cos(0.66348425538 + 2.9689454166 * t);
-        Y1 += 0.00007595636 * Math.cos(1.19807643487 + 148.0787244263 * t);
-        Y1 += 0.00004376824 * Math.cos(2.17182724016 + 160.6088973985 * t);
-        Y1 += 0.00003962568 * Math.cos(3.18042711824 + 65.2203710117 * t);
-        Y1 += 0.00004117202 * Math.cos(6.19931612790 + 22.0914005278 * t);
-        Y1 += 0.00002830313 * Math.cos(3.34365222278 + 213.299095438 * t);
-        Y1 += 0.00002690065 * Math.cos(1.78946471198 + 9.5612275556 * t);
-        Y1 += 0.00002628159 * Math.cos(2.97459067399 + 12.5301729722 * t);
-        Y1 += 0.00003174617 * Math.cos(3.08131638838 + 299.1263942692 * t);
-        Y1 += 0.00002227510 * Math.cos(4.89407437055 + 87.3117715395 * t);
-        Y1 += 0.00002821206 * Math.cos(1.83130010947 + 84.3428261229 * t);
-        Y1 += 0.00002510693 * Math.cos(1.27166561854 + 18.1592472647 * t);
-        Y1 += 0.00002224655 * Math.cos(3.21541108798 + 72.3339180125 * t);
-        Y1 += 0.00001929662 * Math.cos(4.68383962079 + 52.6901980395 * t);
-        Y1 += 0.00001707606 * Math.cos(5.60415260609 + 127.4717966068 * t);
-        Y1 += 0.00001620819 * Math.cos(2.18676505386 + 153.4953503977 * t);
-        Y1 += 0.00001926926 * Math.cos(0.82821252139 + 39.6175083461 * t);
-        Y1 += 0.00001555611 * Math.cos(2.56681954823 + 73.8183907208 * t);
-        Y1 += 0.00001595703 * Math.cos(4.79558057860 + 79.2350166922 * t);
-        Y1 += 0.00001476550 * Math.cos(2.10111459539 + 75.7448064138 * t);
-        Y1 += 0.00001531355 * Math.cos(2.14701519407 + 152.5321425512 * t);
-        Y1 += 0.00001744564 * Math.cos(1.67897185084 + 77.2292791221 * t);
-        Y1 += 0.00001713945 * Math.cos(1.82334975258 + 222.8603229936 * t);
-        Y1 += 0.00001705184 * Math.cos(5.82532917611 + 225.8292684102 * t);
-        Y1 += 0.00001739019 * Math.cos(3.82452086292 + 146.594251718 * t);
-        Y1 += 0.00001291753 * Math.cos(6.19666243545 + 70.3281804424 * t);
-        Y1 += 0.00001458526 * Math.cos(5.10147126404 + 3.1813937377 * t);
-        Y1 += 0.00001179966 * Math.cos(3.56807126055 + 220.4126424388 * t);
-        Y1 += 0.00001234914 * Math.cos(5.69239889831 + 4.4534181249 * t);
-        Y1 += 0.00001075108 * Math.cos(1.76286452034 + 56.6223513026 * t);
-        Y1 += 0.00001035661 * Math.cos(6.12642568708 + 62.2514255951 * t);
-        Y1 += 0.00000978675 * Math.cos(5.23202231955 + 74.8934731519 * t);
-        Y1 += 0.00000977123 * Math.cos(5.73086540533 + 74.6697239827 * t);
-        Y1 += 0.00001114523 * Math.cos(3.41304662369 + 131.4039498699 * t);
-        Y1 += 0.00000888937 * Math.cos(2.70132350527 + 426.598190876 * t);
-        Y1 += 0.00001050191 * Math.cos(3.84176879347 + 109.9456887885 * t);
-        Y1 += 0.00000764556 * Math.cos(1.17341120063 + 1.4844727083 * t);
-        Y1 += 0.00000746231 * Math.cos(3.21375560117 + 92.940845832 * t);
-        Y1 += 0.00000752227 * Math.cos(4.36686229005 + 206.1855484372 * t);
-        Y1 += 0.00000649263 * Math.cos(4.91621635684 + 80.1982245387 * t);
-        Y1 += 0.00000762421 * Math.cos(1.67864314047 + 7.1135470008 * t);
-        Y1 += 0.00000605052 * Math.cos(4.82003168096 + 1059.3819301892 * t);
-        Y1 += 0.00000665473 * Math.cos(1.92732409009 + 96.8729990951 * t);
-        Y1 += 0.00000576200 * Math.cos(0.85782625562 + 522.5774180938 * t);
-        Y1 += 0.00000514504 * Math.cos(2.01976952661 + 2.4476805548 * t);
-        Y1 += 0.00000562291 * Math.cos(0.34610225486 + 536.8045120954 * t);
-        Y1 += 0.00000490123 * Math.cos(1.93462283883 + 137.0330241624 * t);
-        Y1 += 0.00000477490 * Math.cos(5.86979757700 + 41.1019810544 * t);
-        Y1 += 0.00000413484 * Math.cos(2.21776453713 + 66.70484372 * t);
-        Y1 += 0.00000408932 * Math.cos(5.05029212723 + 81.8951455681 * t);
-        Y1 += 0.00000430008 * Math.cos(5.76371058355 + 67.6680515665 * t);
-        Y1 += 0.00000390965 * Math.cos(0.01692722229 + 14.977853527 * t);
-        Y1 += 0.00000347208 * Math.cos(2.52660480727 + 146.3818033969 * t);
-        Y1 += 0.00000343163 * Math.cos(2.84832361417 + 142.4496501338 * t);
-        Y1 += 0.00000288668 * Math.cos(2.84411301863 + 5.4166259714 * t);
-        Y1 += 0.00000326058 * Math.cos(4.27079067798 + 112.9146342051 * t);
-        Y1 += 0.00000283888 * Math.cos(2.51516272259 + 82.8583534146 * t);
-        Y1 += 0.00000295927 * Math.cos(5.21796998105 + 145.1097790097 * t);
-        Y1 += 0.00000254703 * Math.cos(4.68299688590 + 235.3904959658 * t);
-        Y1 += 0.00000262038 * Math.cos(2.33202621667 + 265.9892934775 * t);
-        Y1 += 0.00000245126 * Math.cos(3.09493330266 + 202.2533951741 * t);
-        Y1 += 0.00000281688 * Math.cos(2.62609779716 + 33.6796175129 * t);
-        Y1 += 0.00000246615 * Math.cos(3.74974069088 + 159.1244246902 * t);
-        Y1 += 0.00000238731 * Math.cos(4.48116112932 + 195.1398481733 * t);
-        Y1 += 0.00000235460 * Math.cos(2.06524150362 + 20.6069278195 * t);
-        Y1 += 0.00000217418 * Math.cos(2.68089080319 + 152.7445908723 * t);
-        Y1 += 0.00000212386 * Math.cos(0.50246377589 + 191.2076949102 * t);
-        Y1 += 0.00000233899 * Math.cos(5.10353028418 + 108.4612160802 * t);
-        Y1 += 0.00000207801 * Math.cos(3.08224092011 + 140.001969579 * t);
-        Y1 += 0.00000209576 * Math.cos(0.56985322873 + 36.6485629295 * t);
-        Y1 += 0.00000212509 * Math.cos(3.85248583314 + 209.3669421749 * t);
-        Y1 += 0.00000192273 * Math.cos(5.17224479052 + 23.5758732361 * t);
-        Y1 += 0.00000228062 * Math.cos(4.16741377080 + 297.6419215609 * t);
-        Y1 += 0.00000170887 * Math.cos(2.87499673493 + 128.9562693151 * t);
-        Y1 += 0.00000166214 * Math.cos(4.46057308613 + 5.9378908332 * t);
-        Y1 += 0.00000153690 * Math.cos(5.62788233695 + 288.0806940053 * t);
-        Y1 += 0.00000153433 * Math.cos(1.12899903219 + 162.0933701068 * t);
-        Y1 += 0.00000192082 * Math.cos(5.54389138204 + 373.9079928365 * t);
-        Y1 += 0.00000154183 * Math.cos(1.68184245790 + 14.0146456805 * t);
-        Y1 += 0.00000151315 * Math.cos(2.23944413846 + 120.358249606 * t);
-        Y1 += 0.00000143602 * Math.cos(4.22422388284 + 211.8146227297 * t);
-        Y1 += 0.00000140781 * Math.cos(3.78365682991 + 29.2049475286 * t);
-        Y1 += 0.00000140280 * Math.cos(3.58846256331 + 80.7194894005 * t);
-        Y1 += 0.00000132953 * Math.cos(6.02568481572 + 69.3649725959 * t);
-        Y1 += 0.00000134104 * Math.cos(5.15983441194 + 39.3568759152 * t);
-        Y1 += 0.00000148048 * Math.cos(1.44770358695 + 186.2117600641 * t);
-        Y1 += 0.00000132976 * Math.cos(5.88157760376 + 68.5618234438 * t);
-        Y1 += 0.00000141943 * Math.cos(3.15577853409 + 114.3991069134 * t);
-        Y1 += 0.00000132366 * Math.cos(2.36046311842 + 89.7594520943 * t);
-        Y1 += 0.00000116164 * Math.cos(1.93633920538 + 33.1371007917 * t);
-        Y1 += 0.00000121388 * Math.cos(2.55708768907 + 305.3461693927 * t);
-        Y1 += 0.00000120180 * Math.cos(1.31156651928 + 50.4025761791 * t);
-        Y1 += 0.00000109658 * Math.cos(3.65858083856 + 88.7962442478 * t);
-        Y1 += 0.00000121042 * Math.cos(0.94635099828 + 154.0166152595 * t);
-        Y1 += 0.00000129679 * Math.cos(5.11195868446 + 277.0349937414 * t);
-        Y1 += 0.00000103287 * Math.cos(2.14115463817 + 144.1465711632 * t);
-        Y1 += 0.00000132665 * Math.cos(0.92310657218 + 45.5766510387 * t);
-        Y1 += 0.00000099826 * Math.cos(4.30501972687 + 116.4260963429 * t);
-        Y1 += 0.00000133005 * Math.cos(1.50572985923 + 54.1746707478 * t);
-        Y1 += 0.00000097949 * Math.cos(1.13745216002 + 68.8437077341 * t);
-        Y1 += 0.00000095179 * Math.cos(5.77143179045 + 110.2063212194 * t);
-        Y1 += 0.00000116279 * Math.cos(4.59183976429 + 227.3137411185 * t);
-        Y1 += 0.00000122911 * Math.cos(2.00108270900 + 300.6108669775 * t);
-        Y1 += 0.00000113171 * Math.cos(2.92188560176 + 41.6444977756 * t);
-        Y1 += 0.00000102740 * Math.cos(3.77682647354 + 152.0108776894 * t);
-        Y1 += 0.00000099169 * Math.cos(5.05768073348 + 81.0013736908 * t);
-        Y1 += 0.00000088574 * Math.cos(5.72775893336 + 51.2057253312 * t);
-        Y1 += 0.00000081762 * Math.cos(4.69931003053 + 228.276948965 * t);
-        Y1 += 0.00000084751 * Math.cos(4.63943321098 + 42.5864537627 * t);
-        Y1 += 0.00000074096 * Math.cos(4.96998974307 + 148.5999892881 * t);
-        Y1 += 0.00000074141 * Math.cos(4.55571817657 + 150.5264049811 * t);
-        Y1 += 0.00000073665 * Math.cos(1.94436873034 + 639.897286314 * t);
-        Y1 += 0.00000082217 * Math.cos(3.90199656887 + 32.1951448046 * t);
-        Y1 += 0.00000073369 * Math.cos(3.78616054456 + 95.3885263868 * t);
-        Y1 += 0.00000067806 * Math.cos(4.96424501696 + 16.6747745564 * t);
-        Y1 += 0.00000072487 * Math.cos(3.98596197296 + 404.5067903482 * t);
-        Y1 += 0.00000074821 * Math.cos(0.35383184429 + 230.5645708254 * t);
-        Y1 += 0.00000078217 * Math.cos(5.99310047424 + 6.2197751235 * t);
-        Y1 += 0.00000070370 * Math.cos(3.33409179388 + 24.3790223882 * t);
-        Y1 += 0.00000086172 * Math.cos(3.24240187069 + 419.4846438752 * t);
-        Y1 += 0.00000065371 * Math.cos(0.36077041000 + 125.9873238985 * t);
-        Y1 += 0.00000066071 * Math.cos(3.24550620947 + 28.5718080822 * t);
-        Y1 += 0.00000072887 * Math.cos(1.09355029854 + 183.2428146475 * t);
-        Y1 += 0.00000069241 * Math.cos(6.09410442093 + 333.657345044 * t);
-        Y1 += 0.00000060712 * Math.cos(4.27659918370 + 70.1157321213 * t);
-        Y1 += 0.00000060413 * Math.cos(1.36799815983 + 149.6750717192 * t);
-        Y1 += 0.00000057620 * Math.cos(3.55372227271 + 79.4474650133 * t);
-        Y1 += 0.00000056648 * Math.cos(2.57503504059 + 76.4785195967 * t);
-        Y1 += 0.00000056672 * Math.cos(5.25529010016 + 73.0846775379 * t);
-        Y1 += 0.00000053184 * Math.cos(2.10404044877 + 329.7251917809 * t);
-        Y1 += 0.00000055714 * Math.cos(4.81847283322 + 157.6399519819 * t);
-        Y1 += 0.00000059955 * Math.cos(5.61090007511 + 347.8844390456 * t);
-        Y1 += 0.00000051504 * Math.cos(5.93084548399 + 147.1155165798 * t);
-        Y1 += 0.00000053603 * Math.cos(2.91180090983 + 433.7117378768 * t);
-        Y1 += 0.00000050001 * Math.cos(5.84434201212 + 134.5853436076 * t);
-        Y1 += 0.00000049866 * Math.cos(1.52305095949 + 68.1893164283 * t);
-        Y1 += 0.00000058100 * Math.cos(0.15985888800 + 19.643719973 * t);
-        Y1 += 0.00000047515 * Math.cos(2.95955648439 + 415.5524906121 * t);
-        Y1 += 0.00000045006 * Math.cos(2.01641121240 + 74.0308390419 * t);
-        Y1 += 0.00000045536 * Math.cos(0.26368990951 + 7.8643065262 * t);
-        Y1 += 0.00000045048 * Math.cos(3.64711734680 + 59.8037450403 * t);
-        Y1 += 0.00000043941 * Math.cos(2.65210291918 + 75.5323580927 * t);
-        Y1 += 0.00000051134 * Math.cos(4.38322784772 + 155.7829722581 * t);
-        Y1 += 0.00000040257 * Math.cos(1.13787486261 + 154.979823106 * t);
-        Y1 += 0.00000040030 * Math.cos(4.36727211406 + 258.8757464767 * t);
-        Y1 += 0.00000042111 * Math.cos(3.13201506743 + 273.1028404783 * t);
-        Y1 += 0.00000043370 * Math.cos(1.91463975833 + 529.6909650946 * t);
-        Y1 += 0.00000049915 * Math.cos(3.76926694425 + 99.1606209555 * t);
-        Y1 += 0.00000042102 * Math.cos(5.17447463331 + 1589.0728952838 * t);
-        Y1 += 0.00000037159 * Math.cos(1.10577356919 + 60.7669528868 * t);
-        Y1 += 0.00000037694 * Math.cos(5.68568815838 + 167.7224443993 * t);
-        Y1 += 0.00000042002 * Math.cos(2.89346792476 + 66.9172920411 * t);
-        Y1 += 0.00000036680 * Math.cos(0.59609772196 + 46.470422916 * t);
-        Y1 += 0.00000035593 * Math.cos(3.09945824468 + 81.3738807063 * t);
-        Y1 += 0.00000044433 * Math.cos(5.91344147099 + 58.1068240109 * t);
-        Y1 += 0.00000034621 * Math.cos(3.25403447019 + 135.5485514541 * t);
-        Y1 += 0.00000033444 * Math.cos(2.15331669456 + 149.45132255 * t);
-        Y1 += 0.00000040026 * Math.cos(0.39159834861 + 187.6962327724 * t);
-        Y1 += 0.00000033158 * Math.cos(1.02445253869 + 14.2270940016 * t);
-        Y1 += 0.00000039696 * Math.cos(0.77265302422 + 38.1330356378 * t);
-        Y1 += 0.00000037432 * Math.cos(4.92493835393 + 259.5088859231 * t);
-        Y1 += 0.00000031887 * Math.cos(4.13015670282 + 103.0927742186 * t);
-        Y1 += 0.00000030675 * Math.cos(0.17114169955 + 1052.2683831884 * t);
-        Y1 += 0.00000037429 * Math.cos(5.50521421633 + 73.88782669 * t);
-        Y1 += 0.00000037429 * Math.cos(5.45737352685 + 75.6753704446 * t);
-        Y1 += 0.00000029920 * Math.cos(1.20617782649 + 6.592282139 * t);
-        Y1 += 0.00000030708 * Math.cos(4.96119928476 + 72.4939767069 * t);
-        Y1 += 0.00000030708 * Math.cos(6.00138845842 + 77.0692204277 * t);
-        Y1 += 0.00000035365 * Math.cos(1.85149018503 + 82.6459050935 * t);
-        Y1 += 0.00000028238 * Math.cos(5.62077678053 + 295.1942410061 * t);
-        Y1 += 0.00000031960 * Math.cos(1.56251268347 + 184.7272873558 * t);
-        Y1 += 0.00000029753 * Math.cos(1.50045731441 + 120.9913890524 * t);
-        Y1 += 0.00000029326 * Math.cos(0.77139889103 + 1066.49547719 * t);
-        Y1 += 0.00000032435 * Math.cos(0.91593232743 + 340.7708920448 * t);
-        Y1 += 0.00000026737 * Math.cos(3.17698509921 + 43.2890291783 * t);
-        Y1 += 0.00000030696 * Math.cos(4.70002659763 + 35.1640902212 * t);
-        Y1 += 0.00000028004 * Math.cos(1.44881585209 + 219.891377577 * t);
-        Y1 += 0.00000027010 * Math.cos(0.29668533504 + 143.6253063014 * t);
-        Y1 += 0.00000025966 * Math.cos(1.03271015497 + 47.6942631934 * t);
-        Y1 += 0.00000032420 * Math.cos(1.55161823742 + 221.3758502853 * t);
-        Y1 += 0.00000033890 * Math.cos(4.45443158913 + 171.6545976624 * t);
-        Y1 += 0.00000026867 * Math.cos(5.07778316702 + 217.2312487011 * t);
-        Y1 += 0.00000031100 * Math.cos(0.82257402617 + 98.3574718034 * t);
-        Y1 += 0.00000024170 * Math.cos(2.05667535306 + 46.2097904851 * t);
-        Y1 += 0.00000023863 * Math.cos(4.34223897738 + 218.9281697305 * t);
-        Y1 += 0.00000025235 * Math.cos(4.69042871492 + 554.0699874828 * t);
-        Y1 += 0.00000023868 * Math.cos(4.71660921655 + 57.255490749 * t);
-        Y1 += 0.00000026245 * Math.cos(5.22073119767 + 91.4563731237 * t);
-        Y1 += 0.00000024840 * Math.cos(1.12612503677 + 25.2727942655 * t);
-        Y1 += 0.00000024286 * Math.cos(5.67475253703 + 543.0242872189 * t);
-        Y1 += 0.00000023341 * Math.cos(2.85807251066 + 61.448276443 * t);
-        Y1 += 0.00000021880 * Math.cos(2.12757811260 + 316.3918696566 * t);
-        Y1 += 0.00000022153 * Math.cos(3.02360784305 + 19.1224551112 * t);
-        Y1 += 0.00000022896 * Math.cos(6.01045974333 + 233.9060232575 * t);
-        Y1 += 0.00000022232 * Math.cos(4.57252734405 + 227.5261894396 * t);
-        Y1 += 0.00000024477 * Math.cos(1.45234648419 + 472.1748419147 * t);
-        Y1 += 0.00000023787 * Math.cos(0.19814851299 + 254.9435932136 * t);
-        Y1 += 0.00000021858 * Math.cos(3.23868642667 + 7.4223635415 * t);
-        Y1 += 0.00000027534 * Math.cos(4.02405042416 + 111.4301614968 * t);
-        Y1 += 0.00000020434 * Math.cos(3.61254005832 + 468.2426886516 * t);
-        Y1 += 0.00000019975 * Math.cos(4.73421367097 + 92.0470739547 * t);
-        Y1 += 0.00000018710 * Math.cos(0.49921896876 + 69.6737891366 * t);
-        Y1 += 0.00000019101 * Math.cos(4.03712689896 + 17.2654753874 * t);
-        Y1 += 0.00000021183 * Math.cos(1.01722300195 + 486.4019359163 * t);
-        Y1 += 0.00000022058 * Math.cos(0.03546832338 + 203.7378678824 * t);
-        Y1 += 0.00000018128 * Math.cos(2.18749630503 + 28.3111756513 * t);
-        Y1 += 0.00000019106 * Math.cos(2.56999815497 + 200.7689224658 * t);
-        Y1 += 0.00000018186 * Math.cos(6.24790113108 + 92.3077063856 * t);
-        Y1 += 0.00000020451 * Math.cos(1.98908005437 + 115.8835796217 * t);
-        Y1 += 0.00000019781 * Math.cos(0.91026787025 + 198.321241911 * t);
-        Y1 += 0.00000017183 * Math.cos(5.92660737259 + 397.3932433474 * t);
-        Y1 += 0.00000019764 * Math.cos(5.08996944436 + 296.1574488526 * t);
-        Y1 += 0.00000017326 * Math.cos(2.01038402983 + 100.3844612329 * t);
-        Y1 += 0.00000018336 * Math.cos(1.67870822944 + 151.260118164 * t);
-        Y1 += 0.00000016745 * Math.cos(5.41086655697 + 210.3301500214 * t);
-        Y1 += 0.00000017082 * Math.cos(4.18018375218 + 79.889407998 * t);
-        Y1 += 0.00000017484 * Math.cos(1.96073499840 + 13.3333221243 * t);
-        Y1 += 0.00000019041 * Math.cos(2.05956053972 + 88.1149206916 * t);
-        Y1 += 0.00000016296 * Math.cos(1.84927529083 + 351.8165923087 * t);
-        Y1 += 0.00000016068 * Math.cos(0.47944220093 + 106.9767433719 * t);
-        Y1 += 0.00000016333 * Math.cos(2.08640683311 + 94.4253185403 * t);
-        Y1 += 0.00000016315 * Math.cos(0.87407041749 + 24.1183899573 * t);
-        Y1 += 0.00000016506 * Math.cos(1.55668384247 + 76.42612997 * t);
-        Y1 += 0.00000016506 * Math.cos(3.12271859353 + 73.1370671646 * t);
-        Y1 += 0.00000015851 * Math.cos(1.55481798786 + 13.4933808187 * t);
-        Y1 += 0.00000017915 * Math.cos(2.25770537418 + 181.7583419392 * t);
-        Y1 += 0.00000017819 * Math.cos(4.98834752372 + 221.1634019642 * t);
-        Y1 += 0.00000021162 * Math.cos(0.30009257573 + 372.4235201282 * t);
-        Y1 += 0.00000019752 * Math.cos(2.68974866734 + 479.2883889155 * t);
-        Y1 += 0.00000015502 * Math.cos(2.15644994698 + 30.0562807905 * t);
-        Y1 += 0.00000014861 * Math.cos(3.07987854112 + 98.8999885246 * t);
-        Y1 += 0.00000015298 * Math.cos(6.11050150655 + 55.6591434561 * t);
-        Y1 += 0.00000015606 * Math.cos(3.45933082845 + 135.336103133 * t);
-        Y1 += 0.00000014562 * Math.cos(1.54309244280 + 50.66320861 * t);
-        Y1 += 0.00000014149 * Math.cos(0.55502939857 + 286.596221297 * t);
-        Y1 += 0.00000016971 * Math.cos(0.32345770562 + 132.8884225782 * t);
-        Y1 += 0.00000015562 * Math.cos(4.88358674295 + 411.620337349 * t);
-        Y1 += 0.00000014297 * Math.cos(0.85832234275 + 310.1720945331 * t);
-        Y1 += 0.00000015313 * Math.cos(5.16260319735 + 16.4623262353 * t);
-        Y1 += 0.00000017344 * Math.cos(3.92150607353 + 260.9933586314 * t);
-        Y1 += 0.00000016315 * Math.cos(1.55780267718 + 173.9422195228 * t);
-        Y1 += 0.00000013683 * Math.cos(2.35142443147 + 82.2039621088 * t);
-        Y1 += 0.00000014352 * Math.cos(5.14132706191 + 30.7106720963 * t);
-        Y1 += 0.00000013286 * Math.cos(1.43776614438 + 106.2741679563 * t);
-        Y1 += 0.00000013851 * Math.cos(3.40761420285 + 44.070926471 * t);
-        Y1 += 0.00000013632 * Math.cos(4.25958638386 + 67.8804998876 * t);
-        Y1 += 0.00000017416 * Math.cos(2.62206054100 + 184.0941479094 * t);
-        Y1 += 0.00000013285 * Math.cos(1.25115255590 + 6.9010986797 * t);
-        Y1 += 0.00000012992 * Math.cos(5.46634955062 + 173.6815870919 * t);
-        Y1 += 0.00000012917 * Math.cos(2.89950515923 + 55.1378785943 * t);
-        Y1 += 0.00000016261 * Math.cos(0.42831784501 + 64.4866578288 * t);
-        Y1 += 0.00000012734 * Math.cos(0.13129280359 + 74.2603337055 * t);
-        Y1 += 0.00000012734 * Math.cos(1.40651697882 + 75.3028634291 * t);
-        Y1 += 0.00000012700 * Math.cos(0.13947590032 + 57.5161231799 * t);
-        Y1 += 0.00000012664 * Math.cos(3.52184706075 + 216.4804891757 * t);
-        Y1 += 0.00000012678 * Math.cos(3.64176703665 + 81.682697247 * t);
-        Y1 += 0.00000012499 * Math.cos(0.19514494663 + 32.2433289144 * t);
-        Y1 += 0.00000016313 * Math.cos(5.34510275068 + 60.5545045657 * t);
-        Y1 += 0.00000011970 * Math.cos(1.46148448616 + 189.7232222019 * t);
-        Y1 += 0.00000012477 * Math.cos(1.02902353274 + 515.463871093 * t);
-        Y1 += 0.00000015664 * Math.cos(4.33058952641 + 760.25553592 * t);
-        Y1 += 0.00000012007 * Math.cos(1.57217788805 + 130.4407420234 * t);
-        Y1 += 0.00000013954 * Math.cos(4.85323318500 + 141.6988906084 * t);
-        Y1 += 0.00000012513 * Math.cos(3.50106291075 + 124.2904028691 * t);
-        Y1 += 0.00000011836 * Math.cos(4.58812913314 + 632.7837393132 * t);
-        Y1 += 0.00000012404 * Math.cos(2.56706437369 + 42.5382696529 * t);
-        Y1 += 0.00000012080 * Math.cos(3.59336191094 + 74.1272072615 * t);
-        Y1 += 0.00000012080 * Math.cos(1.08604052506 + 75.4359898731 * t);
-        Y1 += 0.00000013527 * Math.cos(4.25099304738 + 85.0765393058 * t);
-        Y1 += 0.00000010739 * Math.cos(4.95844118289 + 93.9040536785 * t);
-        Y1 += 0.00000010638 * Math.cos(2.39958748468 + 67.3592350258 * t);
-        Y1 += 0.00000013832 * Math.cos(3.79411080267 + 31.6526280834 * t);
-        Y1 += 0.00000010694 * Math.cos(5.86503834062 + 156.1554792736 * t);
-        Y1 += 0.00000010335 * Math.cos(4.57671004843 + 267.4737661858 * t);
-        Y1 += 0.00000010526 * Math.cos(6.26537454607 + 692.5874843535 * t);
-        Y1 += 0.00000010412 * Math.cos(4.53581025708 + 199.0720014364 * t);
-        Y1 += 0.00000013983 * Math.cos(0.54426905720 + 8.0767548473 * t);
-        Y1 += 0.00000010459 * Math.cos(3.55111688475 + 144.8973306886 * t);
-        Y1 += 0.00000013782 * Math.cos(2.66794915751 + 26.0235537909 * t);
-        Y1 += 0.00000012990 * Math.cos(4.63039669972 + 454.9093665273 * t);
-        Y1 += 0.00000010123 * Math.cos(3.61491688022 + 236.8749686741 * t);
-        Y1 += 0.00000010209 * Math.cos(2.37413106984 + 214.7835681463 * t);
-        Y1 += 0.00000010000 * Math.cos(1.03668335124 + 43.1289704839 * t);
-        Y1 += 0.00000010196 * Math.cos(5.97948695694 + 532.8723588323 * t);
-        Y1 += 0.00000010052 * Math.cos(1.93897993582 + 49.5088043018 * t);
-        Y1 += 0.00000009564 * Math.cos(4.75318483390 + 27.0873353739 * t);
-        Y1 += 0.00000010954 * Math.cos(5.27624507129 + 89.0086925689 * t);
-        Y1 += 0.00000009831 * Math.cos(1.26050326376 + 54.3347294422 * t);
-        Y1 += 0.00000009739 * Math.cos(3.71078555984 + 73.1852512744 * t);
-        Y1 += 0.00000009739 * Math.cos(4.11020952975 + 76.3779458602 * t);
-        Y1 += 0.00000009399 * Math.cos(0.36630405976 + 17.5261078183 * t);
-        Y1 += 0.00000012329 * Math.cos(3.11428019688 + 264.5048207692 * t);
-        Y1 += 0.00000009910 * Math.cos(4.74765433533 + 129.9194771616 * t);
-        Y1 += 0.00000011022 * Math.cos(1.88722997944 + 685.4739373527 * t);
-        Y1 += 0.00000009049 * Math.cos(1.62029156232 + 117.9105690512 * t);
-        Y1 += 0.00000009890 * Math.cos(1.84425226351 + 393.4610900843 * t);
-        Y1 += 0.00000008983 * Math.cos(5.50495945537 + 284.1485407422 * t);
-        Y1 += 0.00000008743 * Math.cos(2.43586486318 + 119.5069163441 * t);
-        Y1 += 0.00000010035 * Math.cos(1.72606687342 + 448.6895914038 * t);
-        Y1 += 0.00000010245 * Math.cos(2.71391527366 + 624.919432787 * t);
-        Y1 += 0.00000008574 * Math.cos(2.98478219061 + 136.0698163159 * t);
-        Y1 += 0.00000008920 * Math.cos(4.93954149872 + 207.8824694666 * t);
-        Y1 += 0.00000008494 * Math.cos(5.75906792889 + 103.9865460959 * t);
-        Y1 += 0.00000008571 * Math.cos(0.25289077209 + 44.7253177768 * t);
-        Y1 += 0.00000008845 * Math.cos(3.56613672436 + 88.274979386 * t);
-        Y1 += 0.00000009060 * Math.cos(5.60200499628 + 193.655375465 * t);
-        Y1 += 0.00000008157 * Math.cos(6.12519482603 + 163.5778428151 * t);
-        Y1 += 0.00000008988 * Math.cos(4.16085842080 + 617.8058857862 * t);
-        Y1 += 0.00000010514 * Math.cos(2.93390720828 + 31.492569389 * t);
-        Y1 += 0.00000008521 * Math.cos(6.01861922798 + 155.5010879678 * t);
-        Y1 += 0.00000009091 * Math.cos(4.66636258110 + 180.1619946463 * t);
-        Y1 += 0.00000007714 * Math.cos(5.39841554155 + 606.7601855223 * t);
-        Y1 += 0.00000007891 * Math.cos(5.15570877007 + 47.061123747 * t);
-        Y1 += 0.00000008187 * Math.cos(1.13060383176 + 237.6781178262 * t);
-        Y1 += 0.00000008168 * Math.cos(0.22449118725 + 543.9180590962 * t);
-        Y1 += 0.00000008534 * Math.cos(1.21999207391 + 61.2882177486 * t);
-        Y1 += 0.00000008583 * Math.cos(3.38972104965 + 180.2738692309 * t);
-        Y1 += 0.00000007464 * Math.cos(4.06832263488 + 175.1660598002 * t);
-        Y1 += 0.00000008238 * Math.cos(4.17466862163 + 40.1600250673 * t);
-        Y1 += 0.00000008741 * Math.cos(3.21558804714 + 58.7399634573 * t);
-        Y1 += 0.00000008402 * Math.cos(0.03732574180 + 79.5169009825 * t);
-        Y1 += 0.00000008402 * Math.cos(4.64207669420 + 70.0462961521 * t);
-        Y1 += 0.00000007165 * Math.cos(2.02831415080 + 107.4980082337 * t);
-        Y1 += 0.00000007086 * Math.cos(0.34907168874 + 177.8743727859 * t);
-        Y1 += 0.00000007032 * Math.cos(4.62635122132 + 949.1756089698 * t);
-        Y1 += 0.00000006947 * Math.cos(1.44539167114 + 362.8622925726 * t);
-        Y1 += 0.00000007068 * Math.cos(5.15374688286 + 141.4864422873 * t);
-        Y1 += 0.00000006780 * Math.cos(5.59529522880 + 71.1582618449 * t);
-        Y1 += 0.00000006780 * Math.cos(5.36729251438 + 78.4049352897 * t);
-        Y1 += 0.00000006837 * Math.cos(1.56928861004 + 535.9107402181 * t);
-        Y1 += 0.00000006821 * Math.cos(3.51404454681 + 142.6620984549 * t);
-        Y1 += 0.00000006803 * Math.cos(3.41890384391 + 95.2284676924 * t);
-        Y1 += 0.00000006559 * Math.cos(4.25369667494 + 117.3198682202 * t);
-        Y1 += 0.00000006501 * Math.cos(1.06502124468 + 49.7212526229 * t);
-        Y1 += 0.00000006389 * Math.cos(5.39586011924 + 114.9416236346 * t);
-        Y1 += 0.00000007109 * Math.cos(0.95985317204 + 681.5417840896 * t);
-        Y1 += 0.00000006748 * Math.cos(4.09628686708 + 248.7238180901 * t);
-        Y1 += 0.00000006343 * Math.cos(3.53135540985 + 118.8737768977 * t);
-        Y1 += 0.00000006189 * Math.cos(5.11528797791 + 381.0909758065 * t);
-        Y1 += 0.00000006189 * Math.cos(3.97068861187 + 528.7277572481 * t);
-        Y1 += 0.00000006083 * Math.cos(3.50534080121 + 530.6541729411 * t);
-        Y1 += 0.00000006083 * Math.cos(5.58063530545 + 379.1645601135 * t);
-        Y1 += 0.00000006160 * Math.cos(2.27471289907 + 166.828672522 * t);
-        Y1 += 0.00000006646 * Math.cos(3.13029644154 + 35.685355083 * t);
-        Y1 += 0.00000007045 * Math.cos(1.74300212733 + 526.5095713569 * t);
-        Y1 += 0.00000006505 * Math.cos(5.73653567743 + 121.8427223143 * t);
-        Y1 += 0.00000007411 * Math.cos(6.01029958755 + 756.3233826569 * t);
-        Y1 += 0.00000006639 * Math.cos(5.56185756319 + 34.5309507748 * t);
-        Y1 += 0.00000006729 * Math.cos(0.30990216922 + 550.1378342197 * t);
-        Y1 += 0.00000006319 * Math.cos(2.00631988170 + 143.3434220111 * t);
-        Y1 += 0.00000005834 * Math.cos(6.26504969506 + 405.9912630565 * t);
-        Y1 += 0.00000006837 * Math.cos(4.49077930583 + 375.3924655448 * t);
-        Y1 += 0.00000006073 * Math.cos(0.03659246933 + 29.226199388 * t);
-        Y1 += 0.00000006314 * Math.cos(0.69574142678 + 109.3125493421 * t);
-        Y1 += 0.00000005864 * Math.cos(4.03381742076 + 107.918699359 * t);
-        Y1 += 0.00000005744 * Math.cos(3.44099171464 + 610.6923387854 * t);
-        Y1 += 0.00000005786 * Math.cos(2.06253816229 + 22.633917249 * t);
-        Y1 += 0.00000006744 * Math.cos(5.79309200153 + 27.7204748203 * t);
-        Y1 += 0.00000005731 * Math.cos(4.18602677905 + 234.4967240885 * t);
-        Y1 += 0.00000005642 * Math.cos(1.32898207632 + 853.196381752 * t);
-        Y1 += 0.00000006425 * Math.cos(5.93683435781 + 210.8514148832 * t);
-        Y1 += 0.00000005514 * Math.cos(0.51259120768 + 232.4215505492 * t);
-        Y1 += 0.00000005532 * Math.cos(5.03127867351 + 164.5410506616 * t);
-        Y1 += 0.00000005621 * Math.cos(0.21105822548 + 525.7588118315 * t);
-        Y1 += 0.00000006346 * Math.cos(1.14677693060 + 91.2439248026 * t);
-        Y1 += 0.00000005720 * Math.cos(2.58484163709 + 319.5732633943 * t);
-        Y1 += 0.00000005425 * Math.cos(4.87619567680 + 76.154196691 * t);
-        Y1 += 0.00000005425 * Math.cos(2.94479941279 + 73.4090004436 * t);
-        Y1 += 0.00000005441 * Math.cos(0.83308003167 + 31.2319369581 * t);
-        Y1 += 0.00000005384 * Math.cos(2.24171100613 + 312.4597163935 * t);
-        Y1 += 0.00000005538 * Math.cos(3.83190408539 + 125.1841747464 * t);
-        Y1 += 0.00000005417 * Math.cos(1.80506715096 + 16.04163511 * t);
-        Y1 += 0.00000005401 * Math.cos(3.76183223257 + 192.6921676185 * t);
-        Y1 += 0.00000005258 * Math.cos(2.80362988465 + 49.1787359017 * t);
-        Y1 += 0.00000005433 * Math.cos(3.95755513981 + 408.4389436113 * t);
-        Y1 += 0.00000006350 * Math.cos(1.46370963209 + 90.8232336773 * t);
-        Y1 += 0.00000005176 * Math.cos(0.85326249506 + 34.62157350 * t);
-        Y1 += 0.00000005127 * Math.cos(4.70499271383 + 210.1177017003 * t);
-        Y1 += 0.00000005125 * Math.cos(5.13388413274 + 440.6822725257 * t);
-        Y1 += 0.00000006135 * Math.cos(6.27767935005 + 196.6243208816 * t);
-        Y1 += 0.00000005237 * Math.cos(5.43868405923 + 25.6028626656 * t);
-        Y1 += 0.00000005368 * Math.cos(0.89833267568 + 293.7097682978 * t);
-        Y1 += 0.00000005379 * Math.cos(5.87185859946 + 162.8965192589 * t);
-        Y1 += 0.00000005870 * Math.cos(5.68040852955 + 406.1031376411 * t);
-        Y1 += 0.00000005381 * Math.cos(4.07892086409 + 322.6116447801 * t);
-        Y1 += 0.00000005168 * Math.cos(1.40578632698 + 147.8662761052 * t);
-        Y1 += 0.00000006514 * Math.cos(0.78441227240 + 302.0953396858 * t);
-        Y1 += 0.00000004664 * Math.cos(2.71832015740 + 114.1384744825 * t);
-        Y1 += 0.00000006300 * Math.cos(3.22684324135 + 280.9671470045 * t);
-        Y1 += 0.00000006034 * Math.cos(3.28682609944 + 2043.9822618111 * t);
-        Y1 += 0.00000005359 * Math.cos(3.34986978299 + 376.9463742223 * t);
-        Y1 += 0.00000004507 * Math.cos(3.11041870553 + 100.0543928328 * t);
-        Y1 += 0.00000006229 * Math.cos(4.71461433744 + 403.0223176399 * t);
-        Y1 += 0.00000004918 * Math.cos(0.79029088221 + 827.9235874865 * t);
-        Y1 += 0.00000005151 * Math.cos(6.04977140057 + 301.4140161296 * t);
-        Y1 += 0.00000004642 * Math.cos(5.05387110647 + 749.2098356561 * t);
-        Y1 += 0.00000004545 * Math.cos(0.31133604476 + 52.1476813183 * t);
-        Y1 += 0.00000004548 * Math.cos(2.91482549606 + 995.6460318858 * t);
-        Y1 += 0.00000005335 * Math.cos(5.63899771188 + 232.0490435337 * t);
-        Y1 += 0.00000005746 * Math.cos(2.20971330343 + 44.0921783304 * t);
-        Y1 += 0.00000004717 * Math.cos(5.44878400570 + 95.9792272178 * t);
-        Y1 += 0.00000004310 * Math.cos(2.99240118406 + 122.4758617607 * t);
-        Y1 += 0.00000004237 * Math.cos(5.45877268962 + 257.3912737684 * t);
-        Y1 += 0.00000004658 * Math.cos(2.67813680523 + 470.6903692064 * t);
-        Y1 += 0.00000004196 * Math.cos(2.18196768045 + 221.8971151471 * t);
-        Y1 += 0.00000004399 * Math.cos(2.40325632971 + 103.3534066495 * t);
-        Y1 += 0.00000004273 * Math.cos(1.66297557695 + 831.1049812242 * t);
-        Y1 += 0.00000004224 * Math.cos(1.53482654947 + 501.3797894433 * t);
-        Y1 += 0.00000004447 * Math.cos(3.47911962557 + 101.8689339412 * t);
-        Y1 += 0.00000004161 * Math.cos(1.51092477357 + 43.5496616092 * t);
-        Y1 += 0.00000004649 * Math.cos(3.58736486540 + 216.9224321604 * t);
-        Y1 += 0.00000004666 * Math.cos(1.47668507245 + 269.9214467406 * t);
-        Y1 += 0.00000005340 * Math.cos(0.41373323217 + 842.1506814881 * t);
-        Y1 += 0.00000004482 * Math.cos(3.99832001857 + 21.1976286505 * t);
-        Y1 += 0.00000004344 * Math.cos(2.49175585697 + 49.6518166537 * t);
-        Y1 += 0.00000005029 * Math.cos(5.57233893622 + 189.1807054807 * t);
-        Y1 += 0.00000004064 * Math.cos(2.17885604638 + 48.7580447764 * t);
-        Y1 += 0.00000004154 * Math.cos(6.03272866442 + 170.1701249541 * t);
-        Y1 += 0.00000004207 * Math.cos(2.38933455026 + 35.4247226521 * t);
-        Y1 += 0.00000004193 * Math.cos(0.39448465073 + 383.3091616977 * t);
-        Y1 += 0.00000004088 * Math.cos(4.14959391506 + 271.61836777 * t);
-        Y1 += 0.00000005095 * Math.cos(1.92013837373 + 107.0249274817 * t);
-        Y1 += 0.00000004056 * Math.cos(4.26574461521 + 582.3811631341 * t);
-        Y1 += 0.00000003901 * Math.cos(1.77664133977 + 124.5028511902 * t);
-        Y1 += 0.00000004367 * Math.cos(4.33100086297 + 595.8745439528 * t);
-        Y1 += 0.00000004314 * Math.cos(3.81335461247 + 610.1016379544 * t);
-        Y1 += 0.00000004251 * Math.cos(2.07154175904 + 484.917463208 * t);
-        Y1 += 0.00000004461 * Math.cos(5.51731052862 + 302.3772239761 * t);
-        Y1 += 0.00000003869 * Math.cos(0.14016188548 + 195.7729876197 * t);
-        Y1 += 0.00000004279 * Math.cos(4.56457588625 + 178.7893965226 * t);
-        Y1 += 0.00000004570 * Math.cos(3.91225052432 + 25.0603459444 * t);
-        Y1 += 0.00000004401 * Math.cos(3.00977149914 + 487.8864086246 * t);
-        Y1 += 0.00000004548 * Math.cos(0.82682823758 + 223.4510238246 * t);
-        Y1 += 0.00000004485 * Math.cos(1.11888066555 + 30.5987975117 * t);
-        Y1 += 0.00000003991 * Math.cos(5.99550015236 + 226.7924762567 * t);
-        Y1 += 0.00000004241 * Math.cos(2.57418972840 + 336.8387387817 * t);
-        Y1 += 0.00000004288 * Math.cos(3.23553398773 + 298.2326223919 * t);
-        Y1 += 0.00000003708 * Math.cos(5.12023202898 + 354.9979860464 * t);
-        Y1 += 0.00000003734 * Math.cos(1.76361036965 + 39.0962434843 * t);
-        Y1 += 0.00000004251 * Math.cos(2.89742576428 + 490.3340891794 * t);
-        Y1 += 0.00000004000 * Math.cos(1.99013874137 + 1887.3055176757 * t);
-        Y1 += 0.00000003690 * Math.cos(2.98863596646 + 219.5188705615 * t);
-        Y1 += 0.00000003593 * Math.cos(1.92993289674 + 647.0108333148 * t);
-        Y1 += 0.00000003848 * Math.cos(0.32895770154 + 346.3999663373 * t);
-        Y1 += 0.00000004801 * Math.cos(3.53069692367 + 422.6660376129 * t);
-        Y1 += 0.00000003933 * Math.cos(1.07124636244 + 181.0557665236 * t);
-        Y1 += 0.00000003645 * Math.cos(3.67139942158 + 310.9752436852 * t);
-        Y1 += 0.00000004290 * Math.cos(4.85375320990 + 66.1835788582 * t);
-        Y1 += 0.00000004007 * Math.cos(1.22645898466 + 142.1408335931 * t);
-        Y1 += 0.00000004243 * Math.cos(4.42705400813 + 763.4369296577 * t);
-        Y1 += 0.00000003472 * Math.cos(3.01599882925 + 674.4282370888 * t);
-        Y1 += 0.00000003901 * Math.cos(0.72185997426 + 204.7010757289 * t);
-        Y1 += 0.00000004222 * Math.cos(3.65340879730 + 339.2864193365 * t);
-        Y1 += 0.00000003712 * Math.cos(6.24186047009 + 906.849787638 * t);
-        Y1 += 0.00000003550 * Math.cos(1.66599820846 + 380.12776796 * t);
-        Y1 += 0.00000003806 * Math.cos(1.29154626034 + 253.4591205053 * t);
-        Y1 += 0.00000003407 * Math.cos(0.80345297226 + 745.277682393 * t);
-        Y1 += 0.00000003563 * Math.cos(2.81255515810 + 820.0592809603 * t);
-        Y1 += 0.00000003674 * Math.cos(1.37910752336 + 544.5087599272 * t);
-        Y1 += 0.00000003398 * Math.cos(1.39293643700 + 547.8502123593 * t);
-        Y1 += 0.00000003451 * Math.cos(4.71165482381 + 1507.1777497157 * t);
-        Y1 += 0.00000003432 * Math.cos(1.80612685115 + 184.9879197867 * t);
-        Y1 += 0.00000004646 * Math.cos(6.10399526873 + 604.4725636619 * t);
-        Y1 += 0.00000003459 * Math.cos(4.46134223293 + 565.1156877467 * t);
-        Y1 += 0.00000003346 * Math.cos(6.01104528303 + 672.1406152284 * t);
-        Y1 += 0.00000003818 * Math.cos(2.94151510607 + 328.3525936572 * t);
-        Y1 += 0.00000003429 * Math.cos(6.20622829232 + 344.7030453079 * t);
-        Y1 += 0.00000003965 * Math.cos(0.97771499558 + 256.5399405065 * t);
-        Y1 += 0.00000003554 * Math.cos(2.04610695817 + 1368.660252845 * t);
-        Y1 += 0.00000003526 * Math.cos(5.33310923745 + 1521.4048437173 * t);
-        Y1 += 0.00000003359 * Math.cos(1.51386637492 + 699.7010313543 * t);
-        Y1 += 0.00000004015 * Math.cos(5.85187604603 + 442.7517005706 * t);
-        Y1 += 0.00000003338 * Math.cos(0.74390697506 + 89.9719004154 * t);
-        Y1 += 0.00000003345 * Math.cos(3.86198512192 + 10021.8372800994 * t);
-        Y1 += 0.00000004153 * Math.cos(5.41660115880 + 758.7710632117 * t);
-        Y1 += 0.00000003695 * Math.cos(2.70272958026 + 328.2407190726 * t);
-        Y1 += 0.00000003368 * Math.cos(1.27928746391 + 1050.7839104801 * t);
-        Y1 += 0.00000003395 * Math.cos(1.76965627708 + 511.5317178299 * t);
-        Y1 += 0.00000003470 * Math.cos(2.81336232616 + 1067.9799498983 * t);
-        Y1 += 0.00000003921 * Math.cos(4.16917220037 + 657.1627617014 * t);
-        Y1 += 0.00000003265 * Math.cos(4.84637270255 + 34.2008823747 * t);
-        Y1 += 0.00000003245 * Math.cos(2.64935843871 + 30.6894202369 * t);
-        Y1 += 0.00000003328 * Math.cos(2.38913311897 + 323.5054166574 * t);
-        Y1 += 0.00000004057 * Math.cos(1.92979006097 + 229.0800981171 * t);
-        Y1 += 0.00000003193 * Math.cos(2.73862671891 + 374.7111419886 * t);
-        Y1 += 0.00000004246 * Math.cos(1.67868119422 + 528.2064923863 * t);
-        Y1 += 0.00000003558 * Math.cos(1.03311657364 + 781.5961769224 * t);
-        Y1 += 0.00000004142 * Math.cos(2.17956762731 + 688.6553310904 * t);
-        Y1 += 0.00000003759 * Math.cos(1.15225435707 + 293.188503436 * t);
-        Y1 += 0.00000003788 * Math.cos(2.28038708170 + 105.380396079 * t);
-        Y1 += 0.00000003359 * Math.cos(1.72618422024 + 370.0452755426 * t);
-        Y1 += 0.00000004041 * Math.cos(1.45496139964 + 342.2553647531 * t);
-        Y1 += 0.00000003940 * Math.cos(6.00488042203 + 728.762966531 * t);
-        Y1 += 0.00000003642 * Math.cos(5.29591498610 + 332.8060117821 * t);
-        Y1 += 0.00000003291 * Math.cos(5.82915957363 + 2424.1100297711 * t);
-        Y1 += 0.00000003279 * Math.cos(2.78900727949 + 480.7728616238 * t);
-        Y1 += 0.00000003436 * Math.cos(5.83252684194 + 735.8765135318 * t);
-        Y1 += 0.00000003392 * Math.cos(3.29246798409 + 291.1190753911 * t);
-        Y1 += 0.00000003094 * Math.cos(3.22378474864 + 969.6224780949 * t);
-        Y1 += 0.00000003177 * Math.cos(4.90869876026 + 194.2885149114 * t);
-        Y1 += 0.00000003505 * Math.cos(0.07757668304 + 51.8870488874 * t);
-        Y1 += 0.00000003015 * Math.cos(2.32336060326 + 1053.7528558967 * t);
-        Y1 += 0.00000004172 * Math.cos(0.63805328567 + 332.1728723357 * t);
-        Y1 += 0.00000003794 * Math.cos(0.72421690887 + 555.5544601911 * t);
-        Y1 += 0.00000003462 * Math.cos(4.26980393992 + 609.2078660771 * t);
-        Y1 += 0.00000003498 * Math.cos(1.38701853494 + 630.3360587584 * t);
-        Y1 += 0.00000003255 * Math.cos(1.55384975988 + 113.8778420516 * t);
-        Y1 += 0.00000003367 * Math.cos(5.22184240312 + 477.8039162072 * t);
-        Y1 += 0.00000003305 * Math.cos(3.50958885438 + 473.659314623 * t);
-        Y1 += 0.00000002950 * Math.cos(3.72868396640 + 406.954470903 * t);
-        Y1 += 0.00000002947 * Math.cos(3.18933946169 + 376.1956146969 * t);
-        Y1 += 0.00000003292 * Math.cos(1.83930538139 + 329.8370663655 * t);
-        Y1 += 0.00000003735 * Math.cos(1.93699651985 + 5983.9494557222 * t);
-        Y1 += 0.00000003305 * Math.cos(5.99365370214 + 532.1386456494 * t);
-        Y1 += 0.00000004087 * Math.cos(3.98316215178 + 1264.816719101 * t);
-        Y1 += 0.00000002959 * Math.cos(0.15625500490 + 15.4991183888 * t);
-        Y1 += 0.00000002890 * Math.cos(1.17887202562 + 594.9113361063 * t);
-        Y1 += 0.00000003669 * Math.cos(5.34076783991 + 601.5036182453 * t);
-        Y1 += 0.00000003391 * Math.cos(3.61279122299 + 531.978586955 * t);
-        Y1 += 0.00000003109 * Math.cos(4.06247818410 + 241.6102710893 * t);
-        Y1 += 0.00000003078 * Math.cos(0.52431831050 + 432.8179659995 * t);
-        Y1 += 0.00000003087 * Math.cos(4.42147892231 + 525.2375469697 * t);
-        Y1 += 0.00000003368 * Math.cos(0.00612274205 + 275.5505210331 * t);
-        Y1 += 0.00000003021 * Math.cos(2.73984998375 + 833.552661779 * t);
-        Y1 += 0.00000003359 * Math.cos(3.37955835963 + 228.7982138268 * t);
-        Y1 += 0.00000002904 * Math.cos(2.44331654879 + 90.2807169561 * t);
-        Y1 += 0.00000002845 * Math.cos(1.71560345363 + 260.360219185 * t);
-        Y1 += 0.00000003025 * Math.cos(0.66197534140 + 483.2205421786 * t);
-        Y1 += 0.00000003014 * Math.cos(2.65716293440 + 421.1815649046 * t);
-        Y1 += 0.00000003527 * Math.cos(4.24276675904 + 296.7481496836 * t);
-        Y1 += 0.00000003615 * Math.cos(1.65868367165 + 156.6767441354 * t);
-        Y1 += 0.00000002779 * Math.cos(5.87649617216 + 546.956440482 * t);
-        Y1 += 0.00000002921 * Math.cos(1.45515033376 + 6208.2942514241 * t);
-        Y1 += 0.00000002796 * Math.cos(3.15510185813 + 106.0135355254 * t);
-        Y1 += 0.00000003215 * Math.cos(2.40845979136 + 218.4069048687 * t);
-        Y1 += 0.00000003773 * Math.cos(5.65506488806 + 358.0363674322 * t);
-        Y1 += 0.00000003502 * Math.cos(3.36040662009 + 9914.1591519418 * t);
-        Y1 += 0.00000003441 * Math.cos(5.17758550803 + 689.4060906158 * t);
-        Y1 += 0.00000003061 * Math.cos(3.55867760683 + 1737.7423205411 * t);
-        Y1 += 0.00000002855 * Math.cos(4.14690275315 + 48.9181034708 * t);
-        Y1 += 0.00000003388 * Math.cos(3.10173488011 + 1471.0022675382 * t);
-        Y1 += 0.00000002724 * Math.cos(2.78375512607 + 280.2163874791 * t);
-        Y1 += 0.00000003175 * Math.cos(3.97316441690 + 1512.8068240082 * t);
-        Y1 += 0.00000002688 * Math.cos(0.83078536879 + 395.9087706391 * t);
-        Y1 += 0.00000002721 * Math.cos(0.84302891092 + 469.1364605289 * t);
-        Y1 += 0.00000002898 * Math.cos(4.64603719753 + 100.8051523582 * t);
-        Y1 += 0.00000003020 * Math.cos(0.51676581657 + 469.7271613599 * t);
-        Y1 += 0.00000002743 * Math.cos(6.05000396425 + 121.2520214833 * t);
-        Y1 += 0.00000003366 * Math.cos(0.59876268346 + 3265.8308281325 * t);
-        Y1 += 0.00000003085 * Math.cos(3.00944428171 + 628.8515860501 * t);
-        Y1 += 0.00000002963 * Math.cos(0.44605293530 + 541.5398145106 * t);
-        Y1 += 0.00000002949 * Math.cos(3.40941244036 + 255.8373650909 * t);
-        Y1 += 0.00000002727 * Math.cos(1.85307891248 + 1065.0110044817 * t);
-        Y1 += 0.00000002981 * Math.cos(5.45523598966 + 561.1835344836 * t);
-        Y1 += 0.00000003110 * Math.cos(1.56881053570 + 626.4039054953 * t);
-        Y1 += 0.00000003626 * Math.cos(5.69775666543 + 358.9301393095 * t);
-        Y1 += 0.00000003329 * Math.cos(5.08259605272 + 26013.1215430069 * t);
-        Y1 += 0.00000003374 * Math.cos(1.02797098727 + 1065.6017053127 * t);
-        Y1 += 0.00000002647 * Math.cos(1.71808595583 + 369.0820676961 * t);
-        Y1 += 0.00000002608 * Math.cos(1.92579932746 + 531.1754378029 * t);
-        Y1 += 0.00000002593 * Math.cos(4.72726217361 + 765.8846102125 * t);
-        Y1 += 0.00000003057 * Math.cos(6.21505323467 + 1751.9694145427 * t);
-        Y1 += 0.00000002880 * Math.cos(2.11509152885 + 369.9758395734 * t);
-        Y1 += 0.00000003592 * Math.cos(5.19034496676 + 1062.3508756058 * t);
-        Y1 += 0.00000003404 * Math.cos(1.07437209675 + 1104.2078217025 * t);
-        Y1 += 0.00000003123 * Math.cos(1.19886702583 + 384.2723695442 * t);
-        Y1 += 0.00000002555 * Math.cos(1.50474150838 + 668.2084619653 * t);
-        Y1 += 0.00000002936 * Math.cos(1.30698566586 + 349.3689117539 * t);
-        Y1 += 0.00000002878 * Math.cos(4.46393670354 + 6058.7310542895 * t);
-        Y1 += 0.00000003159 * Math.cos(2.83033258065 + 1336.4169239306 * t);
-        Y1 += 0.00000002804 * Math.cos(0.44967384090 + 2111.6503133776 * t);
-        Y1 += 0.00000002703 * Math.cos(5.49524346251 + 104.0077979553 * t);
-        Y1 += 0.00000002727 * Math.cos(6.17906602741 + 591.9423906897 * t);
-        Y1 += 0.00000002675 * Math.cos(1.17744867197 + 731.9443602687 * t);
-        Y1 += 0.00000002863 * Math.cos(1.36639259323 + 637.4496057592 * t);
-        Y1 += 0.00000002673 * Math.cos(4.52643518421 + 188.0263011725 * t);
-        Y1 += 0.00000002510 * Math.cos(1.15119413127 + 1258.4539316256 * t);
-        Y1 += 0.00000002508 * Math.cos(4.64584835668 + 58.319272332 * t);
-        Y1 += 0.00000002522 * Math.cos(2.97708735282 + 115.3623147599 * t);
-        Y1 += 0.00000002587 * Math.cos(3.00667195954 + 274.0660483248 * t);
-        Y1 += 0.00000002614 * Math.cos(1.51553905536 + 710.7467316182 * t);
-        Y1 += 0.00000002528 * Math.cos(2.67128255093 + 698.216558646 * t);
-        Y1 += 0.00000002660 * Math.cos(1.71574009269 + 159.7151255212 * t);
-        Y1 += 0.00000002623 * Math.cos(2.85599045349 + 10138.5039476437 * t);
-        Y1 += 0.00000002899 * Math.cos(0.96731641272 + 620.253566341 * t);
-        Y1 += 0.00000002890 * Math.cos(1.74392727178 + 361.3778198643 * t);
-        Y1 += 0.00000003276 * Math.cos(6.16884433819 + 436.7501192626 * t);
-        Y1 += 0.00000003222 * Math.cos(5.36285287700 + 420.9691165835 * t);
-        Y1 += 0.00000002812 * Math.cos(1.64142224314 + 282.6640680339 * t);
-        Y1 += 0.00000002497 * Math.cos(4.16307526782 + 40.5807161926 * t);
-        Y1 += 0.00000002497 * Math.cos(0.51632716818 + 108.982480942 * t);
-        Y1 += 0.00000002509 * Math.cos(1.35310476503 + 43.2408450685 * t);
-        Y1 += 0.00000002516 * Math.cos(3.39431422644 + 1197.8994270599 * t);
-        Y1 += 0.00000002682 * Math.cos(1.47035618217 + 771.3012361839 * t);
-        Y1 += 0.00000002890 * Math.cos(2.24537565953 + 678.3603903519 * t);
-        Y1 += 0.00000003365 * Math.cos(2.19461743302 + 278.5194664497 * t);
-        Y1 += 0.00000002629 * Math.cos(2.58288671181 + 632.0329797878 * t);
-        Y1 += 0.00000002400 * Math.cos(2.42963673352 + 412.3710968744 * t);
-        Y1 += 0.00000003210 * Math.cos(2.69201905729 + 913.7508863177 * t);
-        Y1 += 0.00000002722 * Math.cos(2.29818896796 + 947.5310775671 * t);
-        Y1 += 0.00000002682 * Math.cos(5.88532422026 + 9988.9407505091 * t);
-        Y1 += 0.00000003247 * Math.cos(4.08732574063 + 256.4280659219 * t);
-        Y1 += 0.00000002408 * Math.cos(0.47310204864 + 1228.4982245716 * t);
-        Y1 += 0.00000002354 * Math.cos(5.43938033767 + 545.4719677737 * t);
-        Y1 += 0.00000002353 * Math.cos(3.88526025060 + 74.5691502462 * t);
-        Y1 += 0.00000002353 * Math.cos(3.93573483899 + 74.9940468884 * t);
-        Y1 += 0.00000002656 * Math.cos(1.88365819066 + 623.2225117576 * t);
-        Y1 += 0.00000002429 * Math.cos(5.72370124169 + 390.2102603774 * t);
-        Y1 += 0.00000002330 * Math.cos(1.20031066823 + 533.6231183577 * t);
-        Y1 += 0.00000002444 * Math.cos(1.06366859477 + 894.8408795276 * t);
-        Y1 += 0.00000002491 * Math.cos(0.63438778395 + 707.5653378805 * t);
-        Y1 += 0.00000002415 * Math.cos(0.41649797223 + 843.6351541964 * t);
-        Y1 += 0.00000003252 * Math.cos(4.42154696407 + 418.0001711669 * t);
-        Y1 += 0.00000002334 * Math.cos(0.24779158408 + 616.3214130779 * t);
-        Y1 += 0.00000002976 * Math.cos(3.41026880242 + 80.4106728598 * t);
-        Y1 += 0.00000003153 * Math.cos(4.34461658951 + 69.1525242748 * t);
-        Y1 += 0.00000003024 * Math.cos(5.65318667869 + 1812.5239191084 * t);
-        Y1 += 0.00000002378 * Math.cos(1.24448739687 + 223.3815878554 * t);
-        Y1 += 0.00000002550 * Math.cos(1.85100883332 + 335.1418177523 * t);
-        Y1 += 0.00000002304 * Math.cos(0.92872058513 + 724.8308132679 * t);
-        Y1 += 0.00000003199 * Math.cos(3.92013828153 + 956.2891559706 * t);
-        Y1 += 0.00000002315 * Math.cos(5.89124641812 + 246.9787129509 * t);
-        Y1 += 0.00000002586 * Math.cos(3.79185736317 + 623.4349600787 * t);
-        Y1 += 0.00000002625 * Math.cos(4.80912360331 + 563.6312150384 * t);
-        Y1 += 0.00000002528 * Math.cos(1.99323803493 + 450.4559484024 * t);
-        Y1 += 0.00000002962 * Math.cos(2.84656694258 + 370.5665404044 * t);
-        Y1 += 0.00000002530 * Math.cos(3.77285579953 + 253.5709950899 * t);
-        Y1 += 0.00000002717 * Math.cos(6.02370493813 + 479.4002635001 * t);
-        Y1 += 0.00000002610 * Math.cos(2.56475445472 + 3116.2676309979 * t);
-        Y1 += 0.00000002267 * Math.cos(3.00681622152 + 464.4705940829 * t);
-        Y1 += 0.00000002331 * Math.cos(4.22833309205 + 980.6681783588 * t);
-        Y1 += 0.00000002485 * Math.cos(5.71826869254 + 461.1291416508 * t);
-        Y1 += 0.00000002223 * Math.cos(0.33085814506 + 53.5839699168 * t);
-        Y1 += 0.00000002250 * Math.cos(5.53400951210 + 180.7951340927 * t);
-        Y1 += 0.00000002252 * Math.cos(0.57877591071 + 1374.1292684431 * t);
-        Y1 += 0.00000002868 * Math.cos(1.11810457004 + 100.6450936638 * t);
-        Y1 += 0.00000002548 * Math.cos(3.44201255815 + 595.7144852584 * t);
-        Y1 += 0.00000002729 * Math.cos(1.32506308123 + 520.129737539 * t);
-        Y1 += 0.00000002230 * Math.cos(4.49028913350 + 417.0369633204 * t);
-        Y1 += 0.00000002227 * Math.cos(3.79362555076 + 6144.5583531207 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 255 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 -= 0.00034812647;
-        Y2 += 0.00016589194 * Math.cos(2.29556740620 + 74.7815985673 * t);
-        Y2 += 0.00010905147 * Math.cos(1.45737963668 + 149.5631971346 * t);
-        Y2 += 0.00007484633 * Math.cos(2.27968076918 + 11.0457002639 * t);
-        Y2 += 0.00007964298 * Math.cos(0.97230247087 + 63.7358983034 * t);
-        Y2 += 0.00005307100 * Math.cos(3.20519221878 + 70.8494453042 * t);
-        Y2 += 0.00005018595 * Math.cos(1.47518527303 + 78.7137518304 * t);
-        Y2 += 0.00006713255 * Math.cos(3.74148881189 + 85.8272988312 * t);
-        Y2 += 0.00005265170 * Math.cos(0.54901216905 + 73.297125859 * t);
-        Y2 += 0.00004864822 * Math.cos(4.11367426823 + 76.2660712756 * t);
-        Y2 += 0.00002995853 * Math.cos(2.49432193549 + 138.5174968707 * t);
-        Y2 += 0.00002519021 * Math.cos(1.78896824345 + 71.6002048296 * t);
-        Y2 += 0.00002418371 * Math.cos(2.88675006488 + 77.962992305 * t);
-        Y2 += 0.00002185856 * Math.cos(5.58862614977 + 3.9321532631 * t);
-        Y2 += 0.00001035578 * Math.cos(5.44752448275 + 145.6310438715 * t);
-        Y2 += 0.00001044459 * Math.cos(4.27972239360 + 224.3447957019 * t);
-        Y2 += 0.00000659180 * Math.cos(5.73048296712 + 18.1592472647 * t);
-        Y2 += 0.00000496445 * Math.cos(3.71294537420 + 22.0914005278 * t);
-        Y2 += 0.00000503264 * Math.cos(0.65556547194 + 151.0476698429 * t);
-        Y2 += 0.00000477875 * Math.cos(1.62059307105 + 72.3339180125 * t);
-        Y2 += 0.00000484216 * Math.cos(3.45190804780 + 3.1813937377 * t);
-        Y2 += 0.00000381403 * Math.cos(3.62830479384 + 77.7505439839 * t);
-        Y2 += 0.00000403003 * Math.cos(6.27429134777 + 160.6088973985 * t);
-        Y2 += 0.00000333059 * Math.cos(0.97920205195 + 71.8126531507 * t);
-        Y2 += 0.00000384754 * Math.cos(3.16159208089 + 77.2292791221 * t);
-        Y2 += 0.00000336233 * Math.cos(4.76282903544 + 65.2203710117 * t);
-        Y2 += 0.00000292404 * Math.cos(3.58367735696 + 56.6223513026 * t);
-        Y2 += 0.00000289620 * Math.cos(5.24475224875 + 131.4039498699 * t);
-        Y2 += 0.00000249990 * Math.cos(1.37715629750 + 127.4717966068 * t);
-        Y2 += 0.00000220833 * Math.cos(1.89936700362 + 220.4126424388 * t);
-        Y2 += 0.00000301291 * Math.cos(0.20539719662 + 84.3428261229 * t);
-        Y2 += 0.00000213294 * Math.cos(0.42767033738 + 52.6901980395 * t);
-        Y2 += 0.00000206036 * Math.cos(1.32796659605 + 92.940845832 * t);
-        Y2 += 0.00000284114 * Math.cos(4.23135833063 + 148.0787244263 * t);
-        Y2 += 0.00000211339 * Math.cos(4.01130147721 + 153.4953503977 * t);
-        Y2 += 0.00000198865 * Math.cos(1.14978553110 + 12.5301729722 * t);
-        Y2 += 0.00000204876 * Math.cos(2.67799239908 + 87.3117715395 * t);
-        Y2 += 0.00000151532 * Math.cos(6.09078229943 + 206.1855484372 * t);
-        Y2 += 0.00000142723 * Math.cos(0.10949652735 + 9.5612275556 * t);
-        Y2 += 0.00000133164 * Math.cos(5.80840699437 + 213.299095438 * t);
-        Y2 += 0.00000117885 * Math.cos(2.56668410237 + 522.5774180938 * t);
-        Y2 += 0.00000114052 * Math.cos(4.92349496195 + 536.8045120954 * t);
-        Y2 += 0.00000098996 * Math.cos(0.45350083876 + 80.1982245387 * t);
-        Y2 += 0.00000097068 * Math.cos(5.58114008285 + 96.8729990951 * t);
-        Y2 += 0.00000105990 * Math.cos(6.11096017627 + 7.1135470008 * t);
-        Y2 += 0.00000086384 * Math.cos(0.65961400871 + 299.1263942692 * t);
-        Y2 += 0.00000106322 * Math.cos(4.32303636127 + 146.3818033969 * t);
-        Y2 += 0.00000088292 * Math.cos(1.19515450864 + 67.6680515665 * t);
-        Y2 += 0.00000077418 * Math.cos(3.42602178272 + 81.8951455681 * t);
-        Y2 += 0.00000100445 * Math.cos(2.04935236166 + 62.2514255951 * t);
-        Y2 += 0.00000067304 * Math.cos(1.98742659596 + 14.977853527 * t);
-        Y2 += 0.00000090127 * Math.cos(4.05284117214 + 2.9689454166 * t);
-        Y2 += 0.00000066309 * Math.cos(0.92926527071 + 426.598190876 * t);
-        Y2 += 0.00000061645 * Math.cos(0.99125497203 + 152.7445908723 * t);
-        Y2 += 0.00000062451 * Math.cos(3.50449733826 + 2.4476805548 * t);
-        Y2 += 0.00000074678 * Math.cos(3.77517933075 + 529.6909650946 * t);
-        Y2 += 0.00000050857 * Math.cos(2.57947671273 + 79.2350166922 * t);
-        Y2 += 0.00000049175 * Math.cos(3.33707572701 + 225.8292684102 * t);
-        Y2 += 0.00000047122 * Math.cos(6.24480457103 + 195.1398481733 * t);
-        Y2 += 0.00000044835 * Math.cos(2.15590865651 + 209.3669421749 * t);
-        Y2 += 0.00000043658 * Math.cos(2.08963855451 + 70.3281804424 * t);
-        Y2 += 0.00000041219 * Math.cos(4.04232816275 + 120.358249606 * t);
-        Y2 += 0.00000041618 * Math.cos(6.14356383699 + 152.5321425512 * t);
-        Y2 += 0.00000038366 * Math.cos(3.54572307684 + 1059.3819301892 * t);
-        Y2 += 0.00000044787 * Math.cos(5.30573896543 + 1.4844727083 * t);
-        Y2 += 0.00000048896 * Math.cos(4.61108579721 + 142.4496501338 * t);
-        Y2 += 0.00000039806 * Math.cos(1.64663028331 + 29.2049475286 * t);
-        Y2 += 0.00000036426 * Math.cos(4.53511032225 + 5.4166259714 * t);
-        Y2 += 0.00000035147 * Math.cos(4.19203202972 + 69.3649725959 * t);
-        Y2 += 0.00000035324 * Math.cos(3.94582037445 + 137.0330241624 * t);
-        Y2 += 0.00000034455 * Math.cos(2.94012534655 + 45.5766510387 * t);
-        Y2 += 0.00000031548 * Math.cos(0.08014882734 + 202.2533951741 * t);
-        Y2 += 0.00000025084 * Math.cos(2.59672105549 + 23.5758732361 * t);
-        Y2 += 0.00000025727 * Math.cos(3.38530289472 + 4.4534181249 * t);
-        Y2 += 0.00000025905 * Math.cos(5.51750075147 + 222.8603229936 * t);
-        Y2 += 0.00000025105 * Math.cos(6.13712522856 + 20.6069278195 * t);
-        Y2 += 0.00000027600 * Math.cos(5.36277971664 + 152.0108776894 * t);
-        Y2 += 0.00000025241 * Math.cos(2.50523497126 + 235.3904959658 * t);
-        Y2 += 0.00000021960 * Math.cos(5.50155148287 + 33.1371007917 * t);
-        Y2 += 0.00000020191 * Math.cos(6.02482335285 + 70.1157321213 * t);
-        Y2 += 0.00000019159 * Math.cos(0.15180124055 + 146.594251718 * t);
-        Y2 += 0.00000018561 * Math.cos(4.26574885795 + 89.7594520943 * t);
-        Y2 += 0.00000018567 * Math.cos(1.94117799593 + 159.1244246902 * t);
-        Y2 += 0.00000019020 * Math.cos(1.80248271648 + 79.4474650133 * t);
-        Y2 += 0.00000023161 * Math.cos(4.23174691360 + 39.6175083461 * t);
-        Y2 += 0.00000017688 * Math.cos(5.87197301600 + 14.2270940016 * t);
-        Y2 += 0.00000016887 * Math.cos(3.72825385287 + 54.1746707478 * t);
-        Y2 += 0.00000016486 * Math.cos(4.35636304940 + 265.9892934775 * t);
-        Y2 += 0.00000017966 * Math.cos(0.73075314120 + 73.0846775379 * t);
-        Y2 += 0.00000017801 * Math.cos(0.81410786052 + 76.4785195967 * t);
-        Y2 += 0.00000016355 * Math.cos(5.49262798093 + 41.6444977756 * t);
-        Y2 += 0.00000015318 * Math.cos(0.34171416887 + 144.1465711632 * t);
-        Y2 += 0.00000017894 * Math.cos(2.93472052580 + 191.2076949102 * t);
-        Y2 += 0.00000015137 * Math.cos(1.53552554645 + 333.657345044 * t);
-        Y2 += 0.00000014035 * Math.cos(3.28512675029 + 16.6747745564 * t);
-        Y2 += 0.00000014322 * Math.cos(4.50674337635 + 19.643719973 * t);
-        Y2 += 0.00000013901 * Math.cos(1.23943111555 + 433.7117378768 * t);
-        Y2 += 0.00000014946 * Math.cos(5.27114717415 + 162.0933701068 * t);
-        Y2 += 0.00000012956 * Math.cos(4.83849215643 + 128.9562693151 * t);
-        Y2 += 0.00000013463 * Math.cos(3.87039405264 + 347.8844390456 * t);
-        Y2 += 0.00000014921 * Math.cos(3.89865314878 + 147.1155165798 * t);
-        Y2 += 0.00000014742 * Math.cos(0.24012355053 + 116.4260963429 * t);
-        Y2 += 0.00000012785 * Math.cos(5.21779925438 + 419.4846438752 * t);
-        Y2 += 0.00000011066 * Math.cos(5.60988445239 + 25.2727942655 * t);
-        Y2 += 0.00000010143 * Math.cos(5.97679605331 + 211.8146227297 * t);
-        Y2 += 0.00000010722 * Math.cos(1.34423420021 + 277.0349937414 * t);
-        Y2 += 0.00000009902 * Math.cos(1.31072841849 + 51.2057253312 * t);
-        Y2 += 0.00000010052 * Math.cos(4.85098798718 + 140.001969579 * t);
-        Y2 += 0.00000009261 * Math.cos(3.82300076507 + 167.7224443993 * t);
-        Y2 += 0.00000009369 * Math.cos(0.06690902627 + 639.897286314 * t);
-        Y2 += 0.00000011487 * Math.cos(1.35796386677 + 88.7962442478 * t);
-        Y2 += 0.00000011729 * Math.cos(0.42839638233 + 109.9456887885 * t);
-        Y2 += 0.00000008957 * Math.cos(3.95902561062 + 66.70484372 * t);
-        Y2 += 0.00000009943 * Math.cos(2.73449416367 + 125.9873238985 * t);
-        Y2 += 0.00000010530 * Math.cos(2.81641731347 + 340.7708920448 * t);
-        Y2 += 0.00000008585 * Math.cos(1.43915440031 + 273.1028404783 * t);
-        Y2 += 0.00000009262 * Math.cos(0.25380942211 + 228.276948965 * t);
-        Y2 += 0.00000008980 * Math.cos(0.07240673383 + 258.8757464767 * t);
-        Y2 += 0.00000008113 * Math.cos(3.49659867366 + 41.1019810544 * t);
-        Y2 += 0.00000007532 * Math.cos(3.27091826281 + 89.0086925689 * t);
-        Y2 += 0.00000007218 * Math.cos(1.29306244244 + 95.3885263868 * t);
-        Y2 += 0.00000006506 * Math.cos(3.76490510734 + 305.3461693927 * t);
-        Y2 += 0.00000007895 * Math.cos(1.44148781358 + 58.1068240109 * t);
-        Y2 += 0.00000008400 * Math.cos(1.69644708576 + 288.0806940053 * t);
-        Y2 += 0.00000006330 * Math.cos(2.08884519803 + 216.4804891757 * t);
-        Y2 += 0.00000006266 * Math.cos(1.22803728787 + 145.1097790097 * t);
-        Y2 += 0.00000006202 * Math.cos(2.38239788885 + 24.3790223882 * t);
-        Y2 += 0.00000006356 * Math.cos(2.95032284330 + 154.979823106 * t);
-        Y2 += 0.00000006155 * Math.cos(5.11379042923 + 135.336103133 * t);
-        Y2 += 0.00000006766 * Math.cos(6.24976890449 + 151.260118164 * t);
-        Y2 += 0.00000005842 * Math.cos(0.55024185445 + 39.3568759152 * t);
-        Y2 += 0.00000005975 * Math.cos(5.48221979387 + 1066.49547719 * t);
-        Y2 += 0.00000005793 * Math.cos(5.69976929604 + 103.0927742186 * t);
-        Y2 += 0.00000005958 * Math.cos(5.37871484808 + 46.470422916 * t);
-        Y2 += 0.00000005975 * Math.cos(5.18569044972 + 124.2904028691 * t);
-        Y2 += 0.00000005938 * Math.cos(4.02462385310 + 110.2063212194 * t);
-        Y2 += 0.00000005696 * Math.cos(3.21705372191 + 472.1748419147 * t);
-        Y2 += 0.00000006343 * Math.cos(2.68882544130 + 227.5261894396 * t);
-        Y2 += 0.00000005752 * Math.cos(1.03860750406 + 60.5545045657 * t);
-        Y2 += 0.00000005143 * Math.cos(1.99654700395 + 1052.2683831884 * t);
-        Y2 += 0.00000005425 * Math.cos(2.95721172846 + 91.4563731237 * t);
-        Y2 += 0.00000005096 * Math.cos(2.71688887768 + 515.463871093 * t);
-        Y2 += 0.00000005364 * Math.cos(0.96162321097 + 75.7448064138 * t);
-        Y2 += 0.00000005364 * Math.cos(0.57618657144 + 73.8183907208 * t);
-        Y2 += 0.00000004815 * Math.cos(5.91669724929 + 404.5067903482 * t);
-        Y2 += 0.00000005249 * Math.cos(3.54162440174 + 60.7669528868 * t);
-        Y2 += 0.00000004995 * Math.cos(5.58752388097 + 486.4019359163 * t);
-        Y2 += 0.00000004821 * Math.cos(3.38575445220 + 373.9079928365 * t);
-        Y2 += 0.00000004599 * Math.cos(2.03799101392 + 450.9772132642 * t);
-        Y2 += 0.00000004404 * Math.cos(1.90821960483 + 171.6545976624 * t);
-        Y2 += 0.00000005157 * Math.cos(5.75283583629 + 383.3091616977 * t);
-        Y2 += 0.00000004748 * Math.cos(4.37116225746 + 98.3574718034 * t);
-        Y2 += 0.00000004669 * Math.cos(3.67388415780 + 49.5088043018 * t);
-        Y2 += 0.00000004762 * Math.cos(4.63198019160 + 329.7251917809 * t);
-        Y2 += 0.00000004287 * Math.cos(1.19918156505 + 108.4612160802 * t);
-        Y2 += 0.00000004000 * Math.cos(4.79734715617 + 184.0941479094 * t);
-        Y2 += 0.00000003921 * Math.cos(1.00781809287 + 894.8408795276 * t);
-        Y2 += 0.00000003787 * Math.cos(1.34077162848 + 397.3932433474 * t);
-        Y2 += 0.00000004564 * Math.cos(2.38658597554 + 223.4510238246 * t);
-        Y2 += 0.00000003744 * Math.cos(4.87117009195 + 43.2890291783 * t);
-        Y2 += 0.00000003802 * Math.cos(5.61691850652 + 155.7829722581 * t);
-        Y2 += 0.00000003710 * Math.cos(0.16060396513 + 94.4253185403 * t);
-        Y2 += 0.00000003673 * Math.cos(3.56449648462 + 69.1525242748 * t);
-        Y2 += 0.00000003673 * Math.cos(1.11490595138 + 80.4106728598 * t);
-        Y2 += 0.00000003600 * Math.cos(0.19065704569 + 61.448276443 * t);
-        Y2 += 0.00000003535 * Math.cos(1.86154901498 + 1514.2912967165 * t);
-        Y2 += 0.00000003657 * Math.cos(3.22119466829 + 849.2642284889 * t);
-        Y2 += 0.00000003961 * Math.cos(3.04268397680 + 36.6485629295 * t);
-        Y2 += 0.00000003434 * Math.cos(2.88580512636 + 230.5645708254 * t);
-        Y2 += 0.00000003405 * Math.cos(3.87857248169 + 295.1942410061 * t);
-        Y2 += 0.00000004522 * Math.cos(2.96435934024 + 203.7378678824 * t);
-        Y2 += 0.00000003531 * Math.cos(3.17610762377 + 411.620337349 * t);
-        Y2 += 0.00000003323 * Math.cos(4.80600156750 + 543.9180590962 * t);
-        Y2 += 0.00000003485 * Math.cos(1.35195294182 + 446.3113468182 * t);
-        Y2 += 0.00000003245 * Math.cos(2.89796599726 + 428.0826635843 * t);
-        Y2 += 0.00000003276 * Math.cos(0.08848769483 + 32.2433289144 * t);
-        Y2 += 0.00000003208 * Math.cos(4.56578033890 + 237.6781178262 * t);
-        Y2 += 0.00000003504 * Math.cos(0.77982010393 + 204.7010757289 * t);
-        Y2 += 0.00000003179 * Math.cos(4.70754664264 + 1057.8974574809 * t);
-        Y2 += 0.00000003445 * Math.cos(0.04871363996 + 753.1419889192 * t);
-        Y2 += 0.00000003632 * Math.cos(3.85766982755 + 57.5161231799 * t);
-        Y2 += 0.00000003144 * Math.cos(0.01215688443 + 199.0720014364 * t);
-        Y2 += 0.00000003159 * Math.cos(1.29789979439 + 380.12776796 * t);
-        Y2 += 0.00000003617 * Math.cos(3.39978483308 + 103.9865460959 * t);
-        Y2 += 0.00000003793 * Math.cos(1.38792912334 + 294.3004691288 * t);
-        Y2 += 0.00000003321 * Math.cos(3.70449950362 + 460.5384408198 * t);
-        Y2 += 0.00000003121 * Math.cos(4.43249349458 + 55.1378785943 * t);
-        Y2 += 0.00000003208 * Math.cos(3.77713666696 + 354.9979860464 * t);
-        Y2 += 0.00000003164 * Math.cos(1.44848652521 + 1819.6374661092 * t);
-        Y2 += 0.00000003119 * Math.cos(3.99013881946 + 1589.0728952838 * t);
-        Y2 += 0.00000004062 * Math.cos(1.43575455534 + 112.9146342051 * t);
-        Y2 += 0.00000003055 * Math.cos(6.14900289425 + 106.2741679563 * t);
-        Y2 += 0.00000003327 * Math.cos(0.69765513922 + 381.6122406683 * t);
-        Y2 += 0.00000003540 * Math.cos(2.12097406285 + 956.2891559706 * t);
-        Y2 += 0.00000003851 * Math.cos(1.23576525810 + 82.8583534146 * t);
-        Y2 += 0.00000003454 * Math.cos(1.09473115664 + 624.919432787 * t);
-        Y2 += 0.00000003041 * Math.cos(5.21748882730 + 531.1754378029 * t);
-        Y2 += 0.00000003545 * Math.cos(4.52042282129 + 901.9544265284 * t);
-        Y2 += 0.00000002983 * Math.cos(2.48436459152 + 422.6660376129 * t);
-        Y2 += 0.00000003664 * Math.cos(4.55449595595 + 610.6923387854 * t);
-        Y2 += 0.00000002957 * Math.cos(1.81585565871 + 207.6700211455 * t);
-        Y2 += 0.00000003072 * Math.cos(0.28842194802 + 217.2312487011 * t);
-        Y2 += 0.00000003146 * Math.cos(4.43411072622 + 1169.5882514086 * t);
-        Y2 += 0.00000003006 * Math.cos(4.98418529506 + 291.1190753911 * t);
-        Y2 += 0.00000003196 * Math.cos(0.96757140567 + 336.8387387817 * t);
-        Y2 += 0.00000002923 * Math.cos(5.33580924726 + 198.321241911 * t);
-        Y2 += 0.00000002940 * Math.cos(3.90791054506 + 284.1485407422 * t);
-        Y2 += 0.00000003170 * Math.cos(1.66951998253 + 710.7467316182 * t);
-        Y2 += 0.00000002815 * Math.cos(2.77743270790 + 254.9435932136 * t);
-        Y2 += 0.00000003336 * Math.cos(4.30390109950 + 50.4025761791 * t);
-        Y2 += 0.00000002836 * Math.cos(4.48874732911 + 88.1149206916 * t);
-        Y2 += 0.00000003176 * Math.cos(4.64659372687 + 479.2883889155 * t);
-        Y2 += 0.00000002838 * Math.cos(0.15453414558 + 942.062061969 * t);
-        Y2 += 0.00000002782 * Math.cos(6.02038453941 + 429.7795846137 * t);
-        Y2 += 0.00000003059 * Math.cos(3.17419847154 + 109.3125493421 * t);
-        Y2 += 0.00000002929 * Math.cos(3.80821042876 + 306.830642101 * t);
-        Y2 += 0.00000003352 * Math.cos(1.60450384950 + 606.7601855223 * t);
-        Y2 += 0.00000003320 * Math.cos(1.30095774976 + 735.8765135318 * t);
-        Y2 += 0.00000002656 * Math.cos(1.22918007705 + 415.5524906121 * t);
-        Y2 += 0.00000002948 * Math.cos(1.02017644336 + 180.1619946463 * t);
-        Y2 += 0.00000002586 * Math.cos(6.25175921411 + 200.7689224658 * t);
-        Y2 += 0.00000002982 * Math.cos(5.27568045991 + 827.1728279611 * t);
-        Y2 += 0.00000002543 * Math.cos(5.00768138430 + 358.9301393095 * t);
-        Y2 += 0.00000003044 * Math.cos(3.85742807611 + 398.2870152247 * t);
-        Y2 += 0.00000003037 * Math.cos(1.13167405536 + 323.5054166574 * t);
-        Y2 += 0.00000003450 * Math.cos(5.56161109812 + 33.6796175129 * t);
-        Y2 += 0.00000002649 * Math.cos(0.19906595464 + 387.2413149608 * t);
-        Y2 += 0.00000002653 * Math.cos(6.19083949511 + 476.1069951778 * t);
-        Y2 += 0.00000002656 * Math.cos(2.26611314470 + 504.561183181 * t);
-        Y2 += 0.00000002658 * Math.cos(2.53449256208 + 343.2185725996 * t);
-        Y2 += 0.00000002512 * Math.cos(2.72011642094 + 218.9281697305 * t);
-        Y2 += 0.00000002655 * Math.cos(1.51011044922 + 297.6419215609 * t);
-        Y2 += 0.00000002764 * Math.cos(1.02815159981 + 275.5505210331 * t);
-        Y2 += 0.00000002619 * Math.cos(5.02123369052 + 221.3758502853 * t);
-        Y2 += 0.00000002589 * Math.cos(3.35286991320 + 681.5417840896 * t);
-        Y2 += 0.00000002439 * Math.cos(1.19257109184 + 25.6028626656 * t);
-        Y2 += 0.00000002613 * Math.cos(1.99329848731 + 1155.361157407 * t);
-        Y2 += 0.00000002428 * Math.cos(5.63777334261 + 714.6788848813 * t);
-        Y2 += 0.00000002654 * Math.cos(0.17490588647 + 905.8865797915 * t);
-        Y2 += 0.00000003170 * Math.cos(2.01449003883 + 132.8884225782 * t);
-        Y2 += 0.00000002575 * Math.cos(1.70882633694 + 461.1291416508 * t);
-        Y2 += 0.00000002698 * Math.cos(4.86732070299 + 376.9463742223 * t);
-        Y2 += 0.00000002602 * Math.cos(5.27380478496 + 144.8973306886 * t);
-        Y2 += 0.00000002602 * Math.cos(5.68878295822 + 4.665866446 * t);
-        Y2 += 0.00000002340 * Math.cos(5.27124006260 + 909.8187330546 * t);
-        Y2 += 0.00000002410 * Math.cos(4.39403216091 + 969.6224780949 * t);
-        Y2 += 0.00000002449 * Math.cos(0.84593325495 + 95.9792272178 * t);
-        Y2 += 0.00000002575 * Math.cos(5.00930018514 + 987.7817253596 * t);
-        Y2 += 0.00000002387 * Math.cos(3.47175060090 + 346.1875180162 * t);
-        Y2 += 0.00000002297 * Math.cos(2.37697209648 + 983.1158589136 * t);
-        Y2 += 0.00000002400 * Math.cos(0.73715855446 + 1282.8329540138 * t);
-        Y2 += 0.00000002428 * Math.cos(3.19595816714 + 991.7138786227 * t);
-        Y2 += 0.00000002377 * Math.cos(0.83202602714 + 280.2163874791 * t);
-        Y2 += 0.00000002330 * Math.cos(2.06975538259 + 227.3137411185 * t);
-        Y2 += 0.00000002192 * Math.cos(3.13720960527 + 267.4737661858 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 80 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00001211380;
-        Y3 += 0.00000668539 * Math.cos(1.35719575778 + 70.8494453042 * t);
-        Y3 += 0.00000634232 * Math.cos(3.31949833714 + 78.7137518304 * t);
-        Y3 += 0.00000580282 * Math.cos(5.50249893160 + 149.5631971346 * t);
-        Y3 += 0.00000554688 * Math.cos(3.11230721382 + 63.7358983034 * t);
-        Y3 += 0.00000455522 * Math.cos(1.60057962784 + 85.8272988312 * t);
-        Y3 += 0.00000428309 * Math.cos(2.52339539695 + 73.297125859 * t);
-        Y3 += 0.00000410924 * Math.cos(2.15904083831 + 76.2660712756 * t);
-        Y3 += 0.00000446887 * Math.cos(3.43730189985 + 71.6002048296 * t);
-        Y3 += 0.00000422459 * Math.cos(1.24206088889 + 77.962992305 * t);
-        Y3 += 0.00000354240 * Math.cos(0.67890104591 + 11.0457002639 * t);
-        Y3 += 0.00000246686 * Math.cos(0.94534563236 + 3.9321532631 * t);
-        Y3 += 0.00000213878 * Math.cos(5.65915292036 + 74.7815985673 * t);
-        Y3 += 0.00000132364 * Math.cos(4.15026512788 + 138.5174968707 * t);
-        Y3 += 0.00000119450 * Math.cos(3.90585537641 + 18.1592472647 * t);
-        Y3 += 0.00000120394 * Math.cos(3.74665637710 + 145.6310438715 * t);
-        Y3 += 0.00000088187 * Math.cos(1.90411105424 + 3.1813937377 * t);
-        Y3 += 0.00000052632 * Math.cos(1.75498192807 + 224.3447957019 * t);
-        Y3 += 0.00000050576 * Math.cos(0.78027105095 + 131.4039498699 * t);
-        Y3 += 0.00000053379 * Math.cos(5.39427276412 + 56.6223513026 * t);
-        Y3 += 0.00000046166 * Math.cos(1.35350701377 + 22.0914005278 * t);
-        Y3 += 0.00000034956 * Math.cos(4.58100445018 + 151.0476698429 * t);
-        Y3 += 0.00000034551 * Math.cos(5.72333746106 + 92.940845832 * t);
-        Y3 += 0.00000029345 * Math.cos(0.20241030706 + 220.4126424388 * t);
-        Y3 += 0.00000028364 * Math.cos(4.13984176064 + 160.6088973985 * t);
-        Y3 += 0.00000026418 * Math.cos(5.85866043581 + 153.4953503977 * t);
-        Y3 += 0.00000020838 * Math.cos(1.49657812541 + 206.1855484372 * t);
-        Y3 += 0.00000024290 * Math.cos(3.47380451115 + 127.4717966068 * t);
-        Y3 += 0.00000020448 * Math.cos(2.29388641968 + 52.6901980395 * t);
-        Y3 += 0.00000018708 * Math.cos(1.87727467097 + 81.8951455681 * t);
-        Y3 += 0.00000017870 * Math.cos(2.76211883479 + 67.6680515665 * t);
-        Y3 += 0.00000020164 * Math.cos(6.22457490776 + 65.2203710117 * t);
-        Y3 += 0.00000015808 * Math.cos(4.28418316674 + 522.5774180938 * t);
-        Y3 += 0.00000015540 * Math.cos(0.46398262034 + 87.3117715395 * t);
-        Y3 += 0.00000015362 * Math.cos(3.19856610832 + 536.8045120954 * t);
-        Y3 += 0.00000020752 * Math.cos(4.92517122004 + 84.3428261229 * t);
-        Y3 += 0.00000015215 * Math.cos(4.65923267413 + 148.0787244263 * t);
-        Y3 += 0.00000017277 * Math.cos(5.95787288564 + 146.3818033969 * t);
-        Y3 += 0.00000008774 * Math.cos(4.29662781061 + 62.2514255951 * t);
-        Y3 += 0.00000008664 * Math.cos(3.15614012306 + 96.8729990951 * t);
-        Y3 += 0.00000007548 * Math.cos(5.79027481592 + 152.7445908723 * t);
-        Y3 += 0.00000007274 * Math.cos(0.42348579344 + 209.3669421749 * t);
-        Y3 += 0.00000006892 * Math.cos(5.13529284135 + 69.1525242748 * t);
-        Y3 += 0.00000006892 * Math.cos(5.82729490183 + 80.4106728598 * t);
-        Y3 += 0.00000006636 * Math.cos(1.73465134196 + 195.1398481733 * t);
-        Y3 += 0.00000006513 * Math.cos(5.16226282857 + 45.5766510387 * t);
-        Y3 += 0.00000006716 * Math.cos(6.05135269504 + 120.358249606 * t);
-        Y3 += 0.00000006103 * Math.cos(1.45096139819 + 202.2533951741 * t);
-        Y3 += 0.00000005554 * Math.cos(1.27094393615 + 77.2292791221 * t);
-        Y3 += 0.00000005414 * Math.cos(5.62961039887 + 69.3649725959 * t);
-        Y3 += 0.00000005319 * Math.cos(0.24108290967 + 72.3339180125 * t);
-        Y3 += 0.00000005023 * Math.cos(0.31886761727 + 298.2326223919 * t);
-        Y3 += 0.00000004096 * Math.cos(1.74642791377 + 59.8037450403 * t);
-        Y3 += 0.00000004056 * Math.cos(5.41805385885 + 312.4597163935 * t);
-        Y3 += 0.00000004420 * Math.cos(2.31775089018 + 80.1982245387 * t);
-        Y3 += 0.00000004556 * Math.cos(5.81167808783 + 29.2049475286 * t);
-        Y3 += 0.00000003772 * Math.cos(0.45736408308 + 71.8126531507 * t);
-        Y3 += 0.00000003772 * Math.cos(1.08044569933 + 77.7505439839 * t);
-        Y3 += 0.00000003591 * Math.cos(1.55316751803 + 199.0720014364 * t);
-        Y3 += 0.00000003522 * Math.cos(2.27206270731 + 635.9651330509 * t);
-        Y3 += 0.00000003471 * Math.cos(3.83894807943 + 486.4019359163 * t);
-        Y3 += 0.00000003427 * Math.cos(3.23330507919 + 621.7380390493 * t);
-        Y3 += 0.00000003409 * Math.cos(5.29954963124 + 426.598190876 * t);
-        Y3 += 0.00000003564 * Math.cos(1.40324348330 + 70.1157321213 * t);
-        Y3 += 0.00000003564 * Math.cos(0.13456629911 + 79.4474650133 * t);
-        Y3 += 0.00000003245 * Math.cos(2.48350812643 + 611.5861106627 * t);
-        Y3 += 0.00000003106 * Math.cos(3.95294824397 + 462.0229135281 * t);
-        Y3 += 0.00000003058 * Math.cos(4.98861382553 + 472.1748419147 * t);
-        Y3 += 0.00000002838 * Math.cos(4.20089846346 + 422.6660376129 * t);
-        Y3 += 0.00000003736 * Math.cos(1.94889984594 + 258.8757464767 * t);
-        Y3 += 0.00000002795 * Math.cos(5.98115561353 + 273.1028404783 * t);
-        Y3 += 0.00000002807 * Math.cos(4.70523398072 + 647.0108333148 * t);
-        Y3 += 0.00000002640 * Math.cos(0.64993830115 + 288.0806940053 * t);
-        Y3 += 0.00000002672 * Math.cos(4.35858426427 + 376.1956146969 * t);
-        Y3 += 0.00000002507 * Math.cos(4.31322403686 + 134.5853436076 * t);
-        Y3 += 0.00000003134 * Math.cos(0.16461922297 + 408.4389436113 * t);
-        Y3 += 0.00000002998 * Math.cos(2.39309465855 + 73.0846775379 * t);
-        Y3 += 0.00000002998 * Math.cos(5.42790043104 + 76.4785195967 * t);
-        Y3 += 0.00000002341 * Math.cos(5.57630510768 + 433.7117378768 * t);
-        Y3 += 0.00000002218 * Math.cos(4.57446080069 + 391.1734682239 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 12 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000049430;
-        Y4 += 0.00000034198 * Math.cos(5.13940292251 + 63.7358983034 * t);
-        Y4 += 0.00000026702 * Math.cos(3.77414105026 + 149.5631971346 * t);
-        Y4 += 0.00000027044 * Math.cos(5.82865569544 + 85.8272988312 * t);
-        Y4 += 0.00000016281 * Math.cos(2.05669737682 + 18.1592472647 * t);
-        Y4 += 0.00000006674 * Math.cos(2.47653692518 + 131.4039498699 * t);
-        Y4 += 0.00000007990 * Math.cos(0.88303095823 + 56.6223513026 * t);
-        Y4 += 0.00000005228 * Math.cos(3.84002419343 + 92.940845832 * t);
-        Y4 += 0.00000002351 * Math.cos(4.81342087600 + 220.4126424388 * t);
-        Y4 += 0.00000002294 * Math.cos(4.60700787690 + 365.9006739584 * t);
-        Y4 += 0.00000002483 * Math.cos(2.14187723981 + 284.1485407422 * t);
-        Y4 += 0.00000002226 * Math.cos(3.21912551616 + 206.1855484372 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 1 term of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000000;
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 235 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.25878127698 * Math.cos(2.61861272578 + 74.7815985673 * t);
-        Z0 -= 0.01774318778;
-        Z0 += 0.00599316131 * Math.cos(5.08119500585 + 149.5631971346 * t);
-        Z0 += 0.00190281890 * Math.cos(1.61643841193 + 76.2660712756 * t);
-        Z0 += 0.00190881685 * Math.cos(0.57869575952 + 73.297125859 * t);
-        Z0 += 0.00084626761 * Math.cos(2.26030150166 + 1.4844727083 * t);
-        Z0 += 0.00030734257 * Math.cos(0.23571721555 + 63.7358983034 * t);
-        Z0 += 0.00020842052 * Math.cos(1.26054208091 + 224.3447957019 * t);
-        Z0 += 0.00019734273 * Math.cos(6.04314677688 + 148.0787244263 * t);
-        Z0 += 0.00012537530 * Math.cos(5.17169051466 + 11.0457002639 * t);
-        Z0 += 0.00014582864 * Math.cos(6.14852037212 + 71.8126531507 * t);
-        Z0 += 0.00010407529 * Math.cos(3.65320417038 + 213.299095438 * t);
-        Z0 += 0.00011261541 * Math.cos(3.55973769686 + 529.6909650946 * t);
-        Z0 += 0.00008855669 * Math.cos(4.03774505739 + 151.0476698429 * t);
-        Z0 += 0.00008239460 * Math.cos(0.34225652715 + 77.7505439839 * t);
-        Z0 += 0.00007950169 * Math.cos(0.72564903051 + 85.8272988312 * t);
-        Z0 += 0.00006867469 * Math.cos(0.81417174224 + 2.9689454166 * t);
-        Z0 += 0.00005648720 * Math.cos(3.45324719543 + 138.5174968707 * t);
-        Z0 += 0.00004581938 * Math.cos(1.69668682344 + 38.1330356378 * t);
-        Z0 += 0.00002578399 * Math.cos(5.19696447390 + 111.4301614968 * t);
-        Z0 += 0.00002964070 * Math.cos(6.14338802239 + 35.1640902212 * t);
-        Z0 += 0.00001884104 * Math.cos(2.61192472648 + 78.7137518304 * t);
-        Z0 += 0.00002330304 * Math.cos(5.72640226150 + 70.8494453042 * t);
-        Z0 += 0.00001985215 * Math.cos(0.76408839812 + 39.6175083461 * t);
-        Z0 += 0.00001743154 * Math.cos(1.20586281789 + 146.594251718 * t);
-        Z0 += 0.00002037011 * Math.cos(0.95353587037 + 70.3281804424 * t);
-        Z0 += 0.00001508924 * Math.cos(2.26195448553 + 222.8603229936 * t);
-        Z0 += 0.00001082736 * Math.cos(2.62872874057 + 108.4612160802 * t);
-        Z0 += 0.00001051968 * Math.cos(0.75560753840 + 109.9456887885 * t);
-        Z0 += 0.00000860142 * Math.cos(3.72285572975 + 299.1263942692 * t);
-        Z0 += 0.00000816182 * Math.cos(3.95303779460 + 52.6901980395 * t);
-        Z0 += 0.00000661249 * Math.cos(3.83459160939 + 36.6485629295 * t);
-        Z0 += 0.00000712421 * Math.cos(1.08343941878 + 3.9321532631 * t);
-        Z0 += 0.00000561959 * Math.cos(1.87601204328 + 351.8165923087 * t);
-        Z0 += 0.00000618657 * Math.cos(5.77033241076 + 4.4534181249 * t);
-        Z0 += 0.00000526378 * Math.cos(3.88178280084 + 112.9146342051 * t);
-        Z0 += 0.00000624327 * Math.cos(5.55998063360 + 202.2533951741 * t);
-        Z0 += 0.00000464130 * Math.cos(0.20598822419 + 225.8292684102 * t);
-        Z0 += 0.00000448110 * Math.cos(2.70547740286 + 145.1097790097 * t);
-        Z0 += 0.00000421562 * Math.cos(3.66721349765 + 184.7272873558 * t);
-        Z0 += 0.00000458133 * Math.cos(5.49113221489 + 79.2350166922 * t);
-        Z0 += 0.00000437386 * Math.cos(1.24892718921 + 33.6796175129 * t);
-        Z0 += 0.00000393617 * Math.cos(1.25018492386 + 62.2514255951 * t);
-        Z0 += 0.00000424721 * Math.cos(2.73945218102 + 152.5321425512 * t);
-        Z0 += 0.00000465359 * Math.cos(3.24015058631 + 127.4717966068 * t);
-        Z0 += 0.00000350450 * Math.cos(2.57788261436 + 84.3428261229 * t);
-        Z0 += 0.00000346833 * Math.cos(2.91261394620 + 426.598190876 * t);
-        Z0 += 0.00000375747 * Math.cos(3.20459646801 + 160.6088973985 * t);
-        Z0 += 0.00000313152 * Math.cos(1.32117543131 + 145.6310438715 * t);
-        Z0 += 0.00000284456 * Math.cos(1.70356835837 + 22.0914005278 * t);
-        Z0 += 0.00000265517 * Math.cos(2.67172684401 + 74.6697239827 * t);
-        Z0 += 0.00000258948 * Math.cos(4.12921582346 + 12.5301729722 * t);
-        Z0 += 0.00000274419 * Math.cos(3.90646620441 + 1059.3819301892 * t);
-        Z0 += 0.00000325409 * Math.cos(2.48214857847 + 9.5612275556 * t);
-        Z0 += 0.00000260666 * Math.cos(5.78699886075 + 41.1019810544 * t);
-        Z0 += 0.00000237721 * Math.cos(0.80288483705 + 65.2203710117 * t);
-        Z0 += 0.00000223998 * Math.cos(3.91250165407 + 221.3758502853 * t);
-        Z0 += 0.00000220626 * Math.cos(3.93529110558 + 106.9767433719 * t);
-        Z0 += 0.00000265210 * Math.cos(5.70721287265 + 74.8934731519 * t);
-        Z0 += 0.00000260727 * Math.cos(0.26432051819 + 277.0349937414 * t);
-        Z0 += 0.00000201268 * Math.cos(5.94906398723 + 87.3117715395 * t);
-        Z0 += 0.00000165472 * Math.cos(3.54108848226 + 490.3340891794 * t);
-        Z0 += 0.00000216763 * Math.cos(2.14355016573 + 68.8437077341 * t);
-        Z0 += 0.00000166510 * Math.cos(3.37208863092 + 72.3339180125 * t);
-        Z0 += 0.00000144942 * Math.cos(3.24374054293 + 56.6223513026 * t);
-        Z0 += 0.00000151752 * Math.cos(3.25335981894 + 71.6002048296 * t);
-        Z0 += 0.00000145795 * Math.cos(5.12147352849 + 77.962992305 * t);
-        Z0 += 0.00000155998 * Math.cos(5.19284812595 + 77.2292791221 * t);
-        Z0 += 0.00000123397 * Math.cos(2.06100256833 + 186.2117600641 * t);
-        Z0 += 0.00000123620 * Math.cos(1.96019194023 + 288.0806940053 * t);
-        Z0 += 0.00000100136 * Math.cos(2.82301109906 + 114.3991069134 * t);
-        Z0 += 0.00000095939 * Math.cos(4.72085119752 + 297.6419215609 * t);
-        Z0 += 0.00000093120 * Math.cos(2.91989514468 + 181.7583419392 * t);
-        Z0 += 0.00000095640 * Math.cos(3.53906186354 + 220.4126424388 * t);
-        Z0 += 0.00000109824 * Math.cos(3.74385247499 + 67.6680515665 * t);
-        Z0 += 0.00000085882 * Math.cos(5.10268841297 + 153.4953503977 * t);
-        Z0 += 0.00000087546 * Math.cos(5.06531594976 + 183.2428146475 * t);
-        Z0 += 0.00000107550 * Math.cos(1.08025777979 + 340.7708920448 * t);
-        Z0 += 0.00000081507 * Math.cos(4.03891440133 + 143.6253063014 * t);
-        Z0 += 0.00000072499 * Math.cos(1.26231939492 + 75.3028634291 * t);
-        Z0 += 0.00000080746 * Math.cos(0.64185046064 + 206.1855484372 * t);
-        Z0 += 0.00000066852 * Math.cos(5.37638250776 + 265.9892934775 * t);
-        Z0 += 0.00000061441 * Math.cos(1.93112217884 + 18.1592472647 * t);
-        Z0 += 0.00000062039 * Math.cos(4.48334461215 + 66.70484372 * t);
-        Z0 += 0.00000073016 * Math.cos(1.75514255931 + 415.5524906121 * t);
-        Z0 += 0.00000064039 * Math.cos(2.09527812031 + 73.8183907208 * t);
-        Z0 += 0.00000056535 * Math.cos(5.23288988461 + 628.8515860501 * t);
-        Z0 += 0.00000070290 * Math.cos(4.25243387975 + 137.0330241624 * t);
-        Z0 += 0.00000062161 * Math.cos(0.01243451360 + 75.7448064138 * t);
-        Z0 += 0.00000072251 * Math.cos(0.83002325085 + 74.2603337055 * t);
-        Z0 += 0.00000054171 * Math.cos(2.56946172290 + 32.1951448046 * t);
-        Z0 += 0.00000051593 * Math.cos(2.16146254563 + 54.1746707478 * t);
-        Z0 += 0.00000057081 * Math.cos(4.52969105049 + 5.9378908332 * t);
-        Z0 += 0.00000050182 * Math.cos(3.95193155421 + 82.8583534146 * t);
-        Z0 += 0.00000059321 * Math.cos(0.59787435734 + 140.001969579 * t);
-        Z0 += 0.00000048938 * Math.cos(3.50893151896 + 7.1135470008 * t);
-        Z0 += 0.00000046178 * Math.cos(0.49809404707 + 131.4039498699 * t);
-        Z0 += 0.00000046517 * Math.cos(3.03683183762 + 59.8037450403 * t);
-        Z0 += 0.00000042340 * Math.cos(3.04902220404 + 218.4069048687 * t);
-        Z0 += 0.00000039090 * Math.cos(6.17926332920 + 373.9079928365 * t);
-        Z0 += 0.00000043400 * Math.cos(4.99216593131 + 258.0244132148 * t);
-        Z0 += 0.00000039572 * Math.cos(5.35887385465 + 219.891377577 * t);
-        Z0 += 0.00000034900 * Math.cos(1.59769199954 + 80.1982245387 * t);
-        Z0 += 0.00000034920 * Math.cos(3.23679252932 + 380.12776796 * t);
-        Z0 += 0.00000036403 * Math.cos(1.98850437514 + 81.8951455681 * t);
-        Z0 += 0.00000040711 * Math.cos(3.59792341256 + 522.5774180938 * t);
-        Z0 += 0.00000032126 * Math.cos(3.27298565306 + 191.2076949102 * t);
-        Z0 += 0.00000034349 * Math.cos(5.21152504802 + 105.4922706636 * t);
-        Z0 += 0.00000032231 * Math.cos(3.61065476446 + 20.6069278195 * t);
-        Z0 += 0.00000036837 * Math.cos(3.48760382716 + 96.8729990951 * t);
-        Z0 += 0.00000030915 * Math.cos(4.60433376269 + 42.5864537627 * t);
-        Z0 += 0.00000028644 * Math.cos(5.75510160651 + 259.5088859231 * t);
-        Z0 += 0.00000028856 * Math.cos(1.34653259405 + 74.5209661364 * t);
-        Z0 += 0.00000028208 * Math.cos(4.66642323140 + 159.1244246902 * t);
-        Z0 += 0.00000029731 * Math.cos(4.37509990489 + 80.7194894005 * t);
-        Z0 += 0.00000029315 * Math.cos(5.03629852507 + 51.2057253312 * t);
-        Z0 += 0.00000025879 * Math.cos(3.05776566988 + 8.0767548473 * t);
-        Z0 += 0.00000026096 * Math.cos(5.48691240270 + 74.8297826771 * t);
-        Z0 += 0.00000025646 * Math.cos(2.63747057104 + 300.6108669775 * t);
-        Z0 += 0.00000025720 * Math.cos(2.42332626332 + 305.3461693927 * t);
-        Z0 += 0.00000025191 * Math.cos(6.16170714892 + 99.1606209555 * t);
-        Z0 += 0.00000026096 * Math.cos(2.89305157919 + 74.7334144575 * t);
-        Z0 += 0.00000025722 * Math.cos(4.26142211768 + 180.2738692309 * t);
-        Z0 += 0.00000024190 * Math.cos(5.50922979275 + 74.9416572617 * t);
-        Z0 += 0.00000026128 * Math.cos(0.13440940381 + 835.0371344873 * t);
-        Z0 += 0.00000025366 * Math.cos(0.26521632573 + 536.8045120954 * t);
-        Z0 += 0.00000024161 * Math.cos(5.19499722816 + 227.3137411185 * t);
-        Z0 += 0.00000027066 * Math.cos(3.36936938207 + 554.0699874828 * t);
-        Z0 += 0.00000029888 * Math.cos(1.80973859163 + 3.1813937377 * t);
-        Z0 += 0.00000025184 * Math.cos(1.53219969036 + 154.0166152595 * t);
-        Z0 += 0.00000029189 * Math.cos(2.73786672090 + 479.2883889155 * t);
-        Z0 += 0.00000026685 * Math.cos(2.98667762458 + 14.977853527 * t);
-        Z0 += 0.00000022295 * Math.cos(3.75337744344 + 39.3568759152 * t);
-        Z0 += 0.00000028696 * Math.cos(0.74986873597 + 75.0422309982 * t);
-        Z0 += 0.00000020972 * Math.cos(3.17916896424 + 255.0554677982 * t);
-        Z0 += 0.00000021014 * Math.cos(0.66302313851 + 767.3690829208 * t);
-        Z0 += 0.00000020577 * Math.cos(0.98634295841 + 116.4260963429 * t);
-        Z0 += 0.00000024248 * Math.cos(2.87116663203 + 74.6215398729 * t);
-        Z0 += 0.00000021752 * Math.cos(5.26140008123 + 294.6729761443 * t);
-        Z0 += 0.00000023545 * Math.cos(3.16204155741 + 67.3592350258 * t);
-        Z0 += 0.00000019430 * Math.cos(5.66067717228 + 235.3904959658 * t);
-        Z0 += 0.00000022220 * Math.cos(3.72262913359 + 92.940845832 * t);
-        Z0 += 0.00000021468 * Math.cos(5.59192826712 + 2.4476805548 * t);
-        Z0 += 0.00000016392 * Math.cos(0.73044725202 + 142.4496501338 * t);
-        Z0 += 0.00000017210 * Math.cos(0.87217558692 + 404.5067903482 * t);
-        Z0 += 0.00000015780 * Math.cos(5.95091393024 + 296.1574488526 * t);
-        Z0 += 0.00000018777 * Math.cos(0.60348363638 + 211.8146227297 * t);
-        Z0 += 0.00000015523 * Math.cos(1.76138162430 + 41.6444977756 * t);
-        Z0 += 0.00000017311 * Math.cos(0.80301716069 + 187.6962327724 * t);
-        Z0 += 0.00000016318 * Math.cos(3.13602300249 + 28.3111756513 * t);
-        Z0 += 0.00000015443 * Math.cos(2.76173273635 + 14.0146456805 * t);
-        Z0 += 0.00000014941 * Math.cos(1.86976831313 + 203.7378678824 * t);
-        Z0 += 0.00000013508 * Math.cos(1.11474597705 + 984.6003316219 * t);
-        Z0 += 0.00000014962 * Math.cos(4.21276743909 + 454.9093665273 * t);
-        Z0 += 0.00000013681 * Math.cos(2.06636726694 + 639.897286314 * t);
-        Z0 += 0.00000015178 * Math.cos(2.79287665181 + 50.4025761791 * t);
-        Z0 += 0.00000013092 * Math.cos(5.16479782395 + 74.0308390419 * t);
-        Z0 += 0.00000013024 * Math.cos(1.54167247979 + 115.8835796217 * t);
-        Z0 += 0.00000013756 * Math.cos(4.44130044058 + 216.9224321604 * t);
-        Z0 += 0.00000012912 * Math.cos(2.65544175682 + 75.5323580927 * t);
-        Z0 += 0.00000014560 * Math.cos(0.31573630495 + 200.7689224658 * t);
-        Z0 += 0.00000016675 * Math.cos(4.45252615374 + 125.9873238985 * t);
-        Z0 += 0.00000013750 * Math.cos(6.21844937284 + 5.4166259714 * t);
-        Z0 += 0.00000013992 * Math.cos(2.89612356381 + 60.7669528868 * t);
-        Z0 += 0.00000013034 * Math.cos(0.55043059925 + 23.5758732361 * t);
-        Z0 += 0.00000011409 * Math.cos(3.39650826181 + 291.7040307277 * t);
-        Z0 += 0.00000011138 * Math.cos(2.91935975246 + 68.1893164283 * t);
-        Z0 += 0.00000011850 * Math.cos(4.83551999164 + 149.45132255 * t);
-        Z0 += 0.00000011862 * Math.cos(5.50185243281 + 331.3215390738 * t);
-        Z0 += 0.00000012269 * Math.cos(2.11880702802 + 162.0933701068 * t);
-        Z0 += 0.00000011814 * Math.cos(5.31010267521 + 142.1408335931 * t);
-        Z0 += 0.00000010875 * Math.cos(0.14632073584 + 128.9562693151 * t);
-        Z0 += 0.00000010636 * Math.cos(3.41354811558 + 286.596221297 * t);
-        Z0 += 0.00000010932 * Math.cos(0.17212866351 + 230.5645708254 * t);
-        Z0 += 0.00000013012 * Math.cos(6.00108633545 + 256.5399405065 * t);
-        Z0 += 0.00000010662 * Math.cos(5.52797089925 + 35.4247226521 * t);
-        Z0 += 0.00000011802 * Math.cos(1.58760278423 + 149.6750717192 * t);
-        Z0 += 0.00000009878 * Math.cos(5.76116968524 + 110.2063212194 * t);
-        Z0 += 0.00000009583 * Math.cos(4.26743788620 + 1589.0728952838 * t);
-        Z0 += 0.00000011677 * Math.cos(2.40931590777 + 81.0013736908 * t);
-        Z0 += 0.00000009947 * Math.cos(4.00367169516 + 760.25553592 * t);
-        Z0 += 0.00000011956 * Math.cos(5.08786325344 + 89.7594520943 * t);
-        Z0 += 0.00000009140 * Math.cos(4.92826513743 + 81.3738807063 * t);
-        Z0 += 0.00000009041 * Math.cos(5.71300476219 + 419.4846438752 * t);
-        Z0 += 0.00000008569 * Math.cos(5.36608418229 + 28.5718080822 * t);
-        Z0 += 0.00000009334 * Math.cos(0.45928779675 + 120.358249606 * t);
-        Z0 += 0.00000009162 * Math.cos(3.71396614183 + 362.8622925726 * t);
-        Z0 += 0.00000008487 * Math.cos(1.72924017920 + 24.3790223882 * t);
-        Z0 += 0.00000007594 * Math.cos(6.10246512358 + 103.0927742186 * t);
-        Z0 += 0.00000009947 * Math.cos(5.60590635849 + 68.5618234438 * t);
-        Z0 += 0.00000007461 * Math.cos(2.32031732682 + 905.8865797915 * t);
-        Z0 += 0.00000008997 * Math.cos(2.37965677543 + 195.1398481733 * t);
-        Z0 += 0.00000008243 * Math.cos(4.74708765747 + 316.3918696566 * t);
-        Z0 += 0.00000007366 * Math.cos(6.15565920052 + 135.5485514541 * t);
-        Z0 += 0.00000007592 * Math.cos(0.05052252659 + 69.3649725959 * t);
-        Z0 += 0.00000009926 * Math.cos(4.65530352311 + 88.7962442478 * t);
-        Z0 += 0.00000007471 * Math.cos(5.67091902966 + 367.9701020033 * t);
-        Z0 += 0.00000009010 * Math.cos(5.15786385091 + 692.5874843535 * t);
-        Z0 += 0.00000006852 * Math.cos(5.42203185877 + 146.3818033969 * t);
-        Z0 += 0.00000006805 * Math.cos(3.79379417792 + 214.7835681463 * t);
-        Z0 += 0.00000007423 * Math.cos(0.10794595769 + 293.188503436 * t);
-        Z0 += 0.00000007905 * Math.cos(4.25870316750 + 260.9933586314 * t);
-        Z0 += 0.00000008094 * Math.cos(4.30080188984 + 617.8058857862 * t);
-        Z0 += 0.00000007684 * Math.cos(1.67030681336 + 114.1384744825 * t);
-        Z0 += 0.00000007620 * Math.cos(0.76643908895 + 152.0108776894 * t);
-        Z0 += 0.00000006240 * Math.cos(3.84416768971 + 30.7106720963 * t);
-        Z0 += 0.00000008334 * Math.cos(0.23758565081 + 565.1156877467 * t);
-        Z0 += 0.00000006097 * Math.cos(5.10863235559 + 329.7251917809 * t);
-        Z0 += 0.00000005988 * Math.cos(1.11565079117 + 372.4235201282 * t);
-        Z0 += 0.00000007252 * Math.cos(6.05773736503 + 6.2197751235 * t);
-        Z0 += 0.00000006028 * Math.cos(5.24025259251 + 95.3885263868 * t);
-        Z0 += 0.00000006289 * Math.cos(3.47252263966 + 73.4090004436 * t);
-        Z0 += 0.00000006000 * Math.cos(5.61195390119 + 157.6399519819 * t);
-        Z0 += 0.00000005425 * Math.cos(1.81773059325 + 647.0108333148 * t);
-        Z0 += 0.00000005756 * Math.cos(0.60729000613 + 45.5766510387 * t);
-        Z0 += 0.00000005331 * Math.cos(0.57774785878 + 462.0229135281 * t);
-        Z0 += 0.00000005807 * Math.cos(2.22669544081 + 358.9301393095 * t);
-        Z0 += 0.00000005826 * Math.cos(5.23125320066 + 284.1485407422 * t);
-        Z0 += 0.00000006314 * Math.cos(0.18733033209 + 10213.285546211 * t);
-        Z0 += 0.00000006532 * Math.cos(3.68538415222 + 278.5194664497 * t);
-        Z0 += 0.00000005337 * Math.cos(2.55697146693 + 543.0242872189 * t);
-        Z0 += 0.00000005214 * Math.cos(3.23506131011 + 7.4223635415 * t);
-        Z0 += 0.00000005726 * Math.cos(0.79025128961 + 483.2205421786 * t);
-        Z0 += 0.00000006176 * Math.cos(4.09929403804 + 328.3525936572 * t);
-        Z0 += 0.00000006858 * Math.cos(5.69002837482 + 141.4864422873 * t);
-        Z0 += 0.00000005025 * Math.cos(2.82710574399 + 152.7445908723 * t);
-        Z0 += 0.00000004960 * Math.cos(3.86366490265 + 46.2097904851 * t);
-        Z0 += 0.00000005299 * Math.cos(0.28596890733 + 0.9632078465 * t);
-        Z0 += 0.00000004711 * Math.cos(1.04008534095 + 1332.4847706675 * t);
-        Z0 += 0.00000005322 * Math.cos(5.53930777799 + 477.9157907918 * t);
-        Z0 += 0.00000004560 * Math.cos(5.18525746864 + 1215.1649024473 * t);
-        Z0 += 0.00000004528 * Math.cos(5.38100183232 + 983.1158589136 * t);
-        Z0 += 0.00000004640 * Math.cos(1.37720813333 + 121.2520214833 * t);
-        Z0 += 0.00000004414 * Math.cos(5.22232716227 + 909.8187330546 * t);
-        Z0 += 0.00000004365 * Math.cos(2.15062971711 + 611.5861106627 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 98 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00655916626 * Math.cos(0.01271947660 + 74.7815985673 * t);
-        Z1 += 0.00049648951;
-        Z1 += 0.00023874178 * Math.cos(2.73870491220 + 149.5631971346 * t);
-        Z1 += 0.00007552177 * Math.cos(5.49304207700 + 76.2660712756 * t);
-        Z1 += 0.00005941304 * Math.cos(3.61254073304 + 73.297125859 * t);
-        Z1 += 0.00002868429 * Math.cos(4.17954157878 + 63.7358983034 * t);
-        Z1 += 0.00002087455 * Math.cos(5.97858625817 + 1.4844727083 * t);
-        Z1 += 0.00001827697 * Math.cos(2.71810813335 + 11.0457002639 * t);
-        Z1 += 0.00001305063 * Math.cos(4.52337002195 + 85.8272988312 * t);
-        Z1 += 0.00001158250 * Math.cos(5.31913504112 + 224.3447957019 * t);
-        Z1 += 0.00000734112 * Math.cos(3.81331728220 + 70.8494453042 * t);
-        Z1 += 0.00000690304 * Math.cos(0.01086319936 + 138.5174968707 * t);
-        Z1 += 0.00000497091 * Math.cos(4.70518667311 + 78.7137518304 * t);
-        Z1 += 0.00000525934 * Math.cos(4.22790148916 + 71.8126531507 * t);
-        Z1 += 0.00000429414 * Math.cos(4.87681143526 + 213.299095438 * t);
-        Z1 += 0.00000489133 * Math.cos(1.79190013789 + 151.0476698429 * t);
-        Z1 += 0.00000429528 * Math.cos(4.40758343368 + 77.7505439839 * t);
-        Z1 += 0.00000390025 * Math.cos(3.59458303816 + 148.0787244263 * t);
-        Z1 += 0.00000386442 * Math.cos(1.52709843729 + 529.6909650946 * t);
-        Z1 += 0.00000225115 * Math.cos(5.02814647582 + 2.9689454166 * t);
-        Z1 += 0.00000193252 * Math.cos(2.74882587378 + 3.9321532631 * t);
-        Z1 += 0.00000102785 * Math.cos(3.31502760721 + 77.962992305 * t);
-        Z1 += 0.00000097903 * Math.cos(5.85664051124 + 145.6310438715 * t);
-        Z1 += 0.00000103227 * Math.cos(5.06943606258 + 71.6002048296 * t);
-        Z1 += 0.00000106981 * Math.cos(1.10631744127 + 52.6901980395 * t);
-        Z1 += 0.00000077286 * Math.cos(3.72807884402 + 35.1640902212 * t);
-        Z1 += 0.00000067594 * Math.cos(0.77601310740 + 160.6088973985 * t);
-        Z1 += 0.00000063561 * Math.cos(5.01016684392 + 22.0914005278 * t);
-        Z1 += 0.00000058625 * Math.cos(5.17576903593 + 39.6175083461 * t);
-        Z1 += 0.00000076599 * Math.cos(1.30683710252 + 65.2203710117 * t);
-        Z1 += 0.00000055754 * Math.cos(6.26203252006 + 222.8603229936 * t);
-        Z1 += 0.00000049390 * Math.cos(0.96663399742 + 127.4717966068 * t);
-        Z1 += 0.00000049820 * Math.cos(5.14835012477 + 56.6223513026 * t);
-        Z1 += 0.00000053114 * Math.cos(2.86405621955 + 202.2533951741 * t);
-        Z1 += 0.00000061715 * Math.cos(1.55497097388 + 299.1263942692 * t);
-        Z1 += 0.00000040267 * Math.cos(0.39282094222 + 9.5612275556 * t);
-        Z1 += 0.00000039707 * Math.cos(3.46589599839 + 351.8165923087 * t);
-        Z1 += 0.00000046592 * Math.cos(0.38562695814 + 84.3428261229 * t);
-        Z1 += 0.00000042230 * Math.cos(1.67068092002 + 12.5301729722 * t);
-        Z1 += 0.00000034980 * Math.cos(3.48214299481 + 87.3117715395 * t);
-        Z1 += 0.00000032542 * Math.cos(1.84777807213 + 220.4126424388 * t);
-        Z1 += 0.00000032124 * Math.cos(1.84035184320 + 72.3339180125 * t);
-        Z1 += 0.00000030161 * Math.cos(2.83531415256 + 277.0349937414 * t);
-        Z1 += 0.00000030675 * Math.cos(3.22207043880 + 79.2350166922 * t);
-        Z1 += 0.00000029271 * Math.cos(3.90806723610 + 4.4534181249 * t);
-        Z1 += 0.00000035031 * Math.cos(0.01605949416 + 18.1592472647 * t);
-        Z1 += 0.00000032809 * Math.cos(2.31407395388 + 206.1855484372 * t);
-        Z1 += 0.00000027380 * Math.cos(0.23224788433 + 38.1330356378 * t);
-        Z1 += 0.00000029257 * Math.cos(0.62309320704 + 152.5321425512 * t);
-        Z1 += 0.00000028570 * Math.cos(5.63486898483 + 67.6680515665 * t);
-        Z1 += 0.00000033047 * Math.cos(4.30651825800 + 225.8292684102 * t);
-        Z1 += 0.00000029182 * Math.cos(3.18810576540 + 36.6485629295 * t);
-        Z1 += 0.00000026456 * Math.cos(0.41401739438 + 426.598190876 * t);
-        Z1 += 0.00000031136 * Math.cos(5.16649564680 + 62.2514255951 * t);
-        Z1 += 0.00000020989 * Math.cos(1.27501642305 + 73.8183907208 * t);
-        Z1 += 0.00000021586 * Math.cos(0.54298324173 + 77.2292791221 * t);
-        Z1 += 0.00000019927 * Math.cos(0.81036596459 + 75.7448064138 * t);
-        Z1 += 0.00000018562 * Math.cos(0.85762153591 + 153.4953503977 * t);
-        Z1 += 0.00000018352 * Math.cos(3.66430920732 + 74.8934731519 * t);
-        Z1 += 0.00000019408 * Math.cos(5.44238978557 + 70.3281804424 * t);
-        Z1 += 0.00000017432 * Math.cos(3.55134001048 + 111.4301614968 * t);
-        Z1 += 0.00000016838 * Math.cos(2.40850940993 + 131.4039498699 * t);
-        Z1 += 0.00000016213 * Math.cos(4.59517640131 + 146.594251718 * t);
-        Z1 += 0.00000018887 * Math.cos(2.60680034467 + 1059.3819301892 * t);
-        Z1 += 0.00000019909 * Math.cos(0.11299264852 + 3.1813937377 * t);
-        Z1 += 0.00000015050 * Math.cos(0.50059176616 + 184.7272873558 * t);
-        Z1 += 0.00000011825 * Math.cos(5.13623111208 + 490.3340891794 * t);
-        Z1 += 0.00000012768 * Math.cos(4.41440359004 + 288.0806940053 * t);
-        Z1 += 0.00000011567 * Math.cos(6.19733666092 + 81.8951455681 * t);
-        Z1 += 0.00000012658 * Math.cos(4.96483571441 + 74.6697239827 * t);
-        Z1 += 0.00000011020 * Math.cos(4.01199960071 + 41.1019810544 * t);
-        Z1 += 0.00000011009 * Math.cos(1.85422919049 + 92.940845832 * t);
-        Z1 += 0.00000010481 * Math.cos(4.84053383193 + 536.8045120954 * t);
-        Z1 += 0.00000009701 * Math.cos(2.49773741126 + 265.9892934775 * t);
-        Z1 += 0.00000009647 * Math.cos(0.66790581742 + 137.0330241624 * t);
-        Z1 += 0.00000009256 * Math.cos(2.08101585823 + 112.9146342051 * t);
-        Z1 += 0.00000009599 * Math.cos(6.16046184188 + 191.2076949102 * t);
-        Z1 += 0.00000010653 * Math.cos(1.48918283518 + 7.1135470008 * t);
-        Z1 += 0.00000008018 * Math.cos(3.39964779966 + 80.1982245387 * t);
-        Z1 += 0.00000010155 * Math.cos(5.38022886082 + 522.5774180938 * t);
-        Z1 += 0.00000007441 * Math.cos(4.22707529633 + 415.5524906121 * t);
-        Z1 += 0.00000007613 * Math.cos(4.06305624916 + 109.9456887885 * t);
-        Z1 += 0.00000006685 * Math.cos(0.85215242388 + 108.4612160802 * t);
-        Z1 += 0.00000008996 * Math.cos(0.44928083852 + 96.8729990951 * t);
-        Z1 += 0.00000007423 * Math.cos(4.54199037166 + 340.7708920448 * t);
-        Z1 += 0.00000006668 * Math.cos(0.68169549965 + 66.70484372 * t);
-        Z1 += 0.00000005579 * Math.cos(4.88979641865 + 195.1398481733 * t);
-        Z1 += 0.00000005519 * Math.cos(2.03513310636 + 297.6419215609 * t);
-        Z1 += 0.00000005256 * Math.cos(5.05648891239 + 14.977853527 * t);
-        Z1 += 0.00000005023 * Math.cos(1.26471022025 + 703.6331846174 * t);
-        Z1 += 0.00000004978 * Math.cos(0.45168703793 + 33.1371007917 * t);
-        Z1 += 0.00000005364 * Math.cos(4.36091994553 + 33.6796175129 * t);
-        Z1 += 0.00000005204 * Math.cos(4.71563303529 + 41.6444977756 * t);
-        Z1 += 0.00000005839 * Math.cos(2.93959194280 + 142.4496501338 * t);
-        Z1 += 0.00000004681 * Math.cos(3.79452774373 + 617.8058857862 * t);
-        Z1 += 0.00000004676 * Math.cos(1.50550222970 + 835.0371344873 * t);
-        Z1 += 0.00000004901 * Math.cos(0.59194496069 + 2.4476805548 * t);
-        Z1 += 0.00000004468 * Math.cos(4.41715426535 + 116.4260963429 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 33 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00014697858 * Math.cos(1.75149165003 + 74.7815985673 * t);
-        Z2 -= 0.00001600044;
-        Z2 += 0.00000257139 * Math.cos(5.91766895295 + 73.297125859 * t);
-        Z2 += 0.00000247413 * Math.cos(5.67197956903 + 149.5631971346 * t);
-        Z2 += 0.00000121840 * Math.cos(0.75865025350 + 11.0457002639 * t);
-        Z2 += 0.00000094450 * Math.cos(2.21235560116 + 76.2660712756 * t);
-        Z2 += 0.00000113629 * Math.cos(2.28365428558 + 85.8272988312 * t);
-        Z2 += 0.00000083530 * Math.cos(1.80920128029 + 70.8494453042 * t);
-        Z2 += 0.00000065243 * Math.cos(0.36612733106 + 78.7137518304 * t);
-        Z2 += 0.00000047174 * Math.cos(1.41711995616 + 1.4844727083 * t);
-        Z2 += 0.00000043727 * Math.cos(1.83013988872 + 138.5174968707 * t);
-        Z2 += 0.00000034300 * Math.cos(1.54028391235 + 77.962992305 * t);
-        Z2 += 0.00000031720 * Math.cos(0.03139830781 + 213.299095438 * t);
-        Z2 += 0.00000026349 * Math.cos(3.04720237620 + 529.6909650946 * t);
-        Z2 += 0.00000033009 * Math.cos(5.75228726463 + 63.7358983034 * t);
-        Z2 += 0.00000033193 * Math.cos(0.57224102909 + 71.6002048296 * t);
-        Z2 += 0.00000027913 * Math.cos(4.45469138185 + 3.9321532631 * t);
-        Z2 += 0.00000022890 * Math.cos(2.72301959951 + 224.3447957019 * t);
-        Z2 += 0.00000013762 * Math.cos(3.75389258483 + 145.6310438715 * t);
-        Z2 += 0.00000011942 * Math.cos(0.71017756424 + 71.8126531507 * t);
-        Z2 += 0.00000010375 * Math.cos(5.43438514766 + 151.0476698429 * t);
-        Z2 += 0.00000008582 * Math.cos(4.15703770704 + 18.1592472647 * t);
-        Z2 += 0.00000007110 * Math.cos(3.80523625157 + 454.9093665273 * t);
-        Z2 += 0.00000007300 * Math.cos(2.04486459139 + 77.7505439839 * t);
-        Z2 += 0.00000006450 * Math.cos(2.13573948824 + 22.0914005278 * t);
-        Z2 += 0.00000005761 * Math.cos(3.36869478839 + 52.6901980395 * t);
-        Z2 += 0.00000007863 * Math.cos(4.25003313419 + 148.0787244263 * t);
-        Z2 += 0.00000006205 * Math.cos(0.04948675860 + 72.3339180125 * t);
-        Z2 += 0.00000006691 * Math.cos(4.45146912577 + 160.6088973985 * t);
-        Z2 += 0.00000005214 * Math.cos(5.54906714219 + 127.4717966068 * t);
-        Z2 += 0.00000006205 * Math.cos(2.26614295646 + 56.6223513026 * t);
-        Z2 += 0.00000004791 * Math.cos(0.22533283202 + 220.4126424388 * t);
-        Z2 += 0.00000006094 * Math.cos(4.96640467601 + 3.1813937377 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 12 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000406961 * Math.cos(3.16314034460 + 74.7815985673 * t);
-        Z3 -= 0.00000032961;
-        Z3 += 0.00000011311 * Math.cos(4.44380758422 + 149.5631971346 * t);
-        Z3 += 0.00000008361 * Math.cos(1.72705039556 + 63.7358983034 * t);
-        Z3 += 0.00000008312 * Math.cos(1.10371780340 + 73.297125859 * t);
-        Z3 += 0.00000009244 * Math.cos(5.94272369985 + 70.8494453042 * t);
-        Z3 += 0.00000007905 * Math.cos(0.43984657946 + 76.2660712756 * t);
-        Z3 += 0.00000008589 * Math.cos(1.88103909904 + 78.7137518304 * t);
-        Z3 += 0.00000006893 * Math.cos(6.12079288343 + 85.8272988312 * t);
-        Z3 += 0.00000005797 * Math.cos(1.86650914141 + 71.6002048296 * t);
-        Z3 += 0.00000005504 * Math.cos(5.95485140431 + 77.962992305 * t);
-        Z3 += 0.00000004869 * Math.cos(4.99593945023 + 11.0457002639 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 1 term of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000000000;
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 1 term of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000000;
-        return Z5 * t * t * t * t * t;
-    }
-
-}
@@ -1,2503 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   VENUS - VSOP87 Series Version A
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX J2000
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 2000 BC < Date < 6000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class A_Venus {
-
-    static double X0(double t) // 548 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 0.72211281391 * Math.cos(3.17575836361 + 10213.285546211 * t);
-        X0 += 0.00486448018;
-        X0 += 0.00244500474 * Math.cos(4.05566613861 + 20426.571092422 * t);
-        X0 += 0.00002800281 * Math.cos(0.33147492492 + 2352.8661537718 * t);
-        X0 += 0.00001949669 * Math.cos(4.23196016801 + 1577.3435424478 * t);
-        X0 += 0.00001241717 * Math.cos(4.93573787058 + 30639.856638633 * t);
-        X0 += 0.00001162258 * Math.cos(2.87958246189 + 18073.7049386502 * t);
-        X0 += 0.00001046690 * Math.cos(1.75434920413 + 6283.0758499914 * t);
-        X0 += 0.00000764293 * Math.cos(0.59379588767 + 529.6909650946 * t);
-        X0 += 0.00000669461 * Math.cos(1.45721228842 + 14143.4952424306 * t);
-        X0 += 0.00000657195 * Math.cos(0.50086450258 + 8635.9420037632 * t);
-        X0 += 0.00000476445 * Math.cos(5.84309782840 + 10186.9872264112 * t);
-        X0 += 0.00000474466 * Math.cos(3.64991163504 + 10239.5838660108 * t);
-        X0 += 0.00000559074 * Math.cos(1.16554783301 + 22003.9146348698 * t);
-        X0 += 0.00000546778 * Math.cos(2.71490884128 + 11790.6290886588 * t);
-        X0 += 0.00000408988 * Math.cos(3.92725431993 + 775.522611324 * t);
-        X0 += 0.00000287059 * Math.cos(2.79578956958 + 9683.5945811164 * t);
-        X0 += 0.00000268822 * Math.cos(0.42000307859 + 10742.9765113056 * t);
-        X0 += 0.00000297742 * Math.cos(5.65655811166 + 5507.5532386674 * t);
-        X0 += 0.00000214149 * Math.cos(0.74884072598 + 10021.8372800994 * t);
-        X0 += 0.00000241103 * Math.cos(5.80627627098 + 10988.808157535 * t);
-        X0 += 0.00000209303 * Math.cos(2.47129919435 + 10404.7338123226 * t);
-        X0 += 0.00000271022 * Math.cos(2.62377780320 + 19896.8801273274 * t);
-        X0 += 0.00000254480 * Math.cos(5.09961413241 + 9153.9036160218 * t);
-        X0 += 0.00000174985 * Math.cos(6.12704911391 + 191.4482661116 * t);
-        X0 += 0.00000175040 * Math.cos(3.53163977560 + 9437.762934887 * t);
-        X0 += 0.00000122990 * Math.cos(1.58925439374 + 1059.3819301892 * t);
-        X0 += 0.00000154379 * Math.cos(5.35607704390 + 4705.7323075436 * t);
-        X0 += 0.00000147455 * Math.cos(5.55780022641 + 19651.048481098 * t);
-        X0 += 0.00000069504 * Math.cos(0.09284153982 + 9103.9069941176 * t);
-        X0 += 0.00000082633 * Math.cos(4.14038372098 + 15720.8387848784 * t);
-        X0 += 0.00000057905 * Math.cos(3.09112177798 + 11322.6640983044 * t);
-        X0 += 0.00000058863 * Math.cos(3.05825416735 + 20618.0193585336 * t);
-        X0 += 0.00000060672 * Math.cos(3.78380568336 + 4551.9534970588 * t);
-        X0 += 0.00000046372 * Math.cos(0.52050501625 + 10192.5101507186 * t);
-        X0 += 0.00000046247 * Math.cos(2.68940900983 + 10234.0609417034 * t);
-        X0 += 0.00000062363 * Math.cos(2.59167610929 + 25934.1243310894 * t);
-        X0 += 0.00000049846 * Math.cos(4.74559004636 + 8624.2126509272 * t);
-        X0 += 0.00000057244 * Math.cos(0.64178511675 + 3154.6870848956 * t);
-        X0 += 0.00000044352 * Math.cos(1.62905355389 + 19367.1891622328 * t);
-        X0 += 0.00000040142 * Math.cos(3.21137282665 + 9411.4646150872 * t);
-        X0 += 0.00000047629 * Math.cos(0.86806456392 + 213.299095438 * t);
-        X0 += 0.00000039831 * Math.cos(1.63910906528 + 801.8209311238 * t);
-        X0 += 0.00000045105 * Math.cos(2.05062276794 + 29580.4747084438 * t);
-        X0 += 0.00000036963 * Math.cos(4.39471796609 + 7058.5984613154 * t);
-        X0 += 0.00000029387 * Math.cos(6.20012003310 + 11015.1064773348 * t);
-        X0 += 0.00000031396 * Math.cos(5.70560306421 + 15874.6175953632 * t);
-        X0 += 0.00000035988 * Math.cos(3.91661388674 + 9999.986450773 * t);
-        X0 += 0.00000027030 * Math.cos(1.82255608984 + 1109.3785520934 * t);
-        X0 += 0.00000035335 * Math.cos(5.58257679416 + 10426.584641649 * t);
-        X0 += 0.00000024532 * Math.cos(5.47009748867 + 7860.4193924392 * t);
-        X0 += 0.00000020348 * Math.cos(0.50298205801 + 10206.1719992102 * t);
-        X0 += 0.00000020289 * Math.cos(2.70241661509 + 10220.3990932118 * t);
-        X0 += 0.00000021702 * Math.cos(2.51229307210 + 13367.9726311066 * t);
-        X0 += 0.00000023556 * Math.cos(4.96219726942 + 21228.3920235458 * t);
-        X0 += 0.00000021314 * Math.cos(2.94962042107 + 3128.3887650958 * t);
-        X0 += 0.00000018918 * Math.cos(5.32707832336 + 26.2983197998 * t);
-        X0 += 0.00000018806 * Math.cos(2.03000092809 + 7.1135470008 * t);
-        X0 += 0.00000020165 * Math.cos(3.03418313848 + 3930.2096962196 * t);
-        X0 += 0.00000017623 * Math.cos(1.34615692033 + 18837.49819713819 * t);
-        X0 += 0.00000015237 * Math.cos(4.38451593035 + 9830.3890139878 * t);
-        X0 += 0.00000017193 * Math.cos(0.21214926890 + 3532.0606928114 * t);
-        X0 += 0.00000014675 * Math.cos(5.12159442035 + 10596.1820784342 * t);
-        X0 += 0.00000016092 * Math.cos(2.35712884119 + 20213.271996984 * t);
-        X0 += 0.00000014921 * Math.cos(4.07229277194 + 29864.334027309 * t);
-        X0 += 0.00000011103 * Math.cos(3.77017026259 + 28286.9904848612 * t);
-        X0 += 0.00000012814 * Math.cos(2.04996476711 + 1589.0728952838 * t);
-        X0 += 0.00000014633 * Math.cos(2.10306620243 + 7084.8967811152 * t);
-        X0 += 0.00000012815 * Math.cos(3.81478671364 + 17298.1823273262 * t);
-        X0 += 0.00000014040 * Math.cos(3.86381640402 + 23581.2581773176 * t);
-        X0 += 0.00000009882 * Math.cos(5.05468665271 + 21535.9496445154 * t);
-        X0 += 0.00000009391 * Math.cos(0.62349717207 + 11272.6674764002 * t);
-        X0 += 0.00000012650 * Math.cos(4.58629724985 + 9786.687355335 * t);
-        X0 += 0.00000011612 * Math.cos(6.19596440423 + 3340.6124266998 * t);
-        X0 += 0.00000010763 * Math.cos(1.23302426124 + 9929.4262273458 * t);
-        X0 += 0.00000008934 * Math.cos(1.67849943453 + 29050.7837433492 * t);
-        X0 += 0.00000010378 * Math.cos(1.97768668783 + 10497.1448650762 * t);
-        X0 += 0.00000007498 * Math.cos(5.81621256989 + 40853.142184844 * t);
-        X0 += 0.00000007361 * Math.cos(0.80024676602 + 16496.3613962024 * t);
-        X0 += 0.00000008792 * Math.cos(0.46879154923 + 10207.7626219036 * t);
-        X0 += 0.00000008786 * Math.cos(2.74189609908 + 10218.8084705184 * t);
-        X0 += 0.00000007423 * Math.cos(4.16147582473 + 10175.2578735752 * t);
-        X0 += 0.00000007386 * Math.cos(5.33241731471 + 10251.3132188468 * t);
-        X0 += 0.00000006656 * Math.cos(4.38046352226 + 8094.5216858326 * t);
-        X0 += 0.00000006531 * Math.cos(1.17040611406 + 20419.45754542119 * t);
-        X0 += 0.00000005871 * Math.cos(2.02826795819 + 32217.2001810808 * t);
-        X0 += 0.00000007913 * Math.cos(3.46752863857 + 12566.1516999828 * t);
-        X0 += 0.00000005864 * Math.cos(0.20073358491 + 5661.3320491522 * t);
-        X0 += 0.00000005717 * Math.cos(2.30775630611 + 24356.7807886416 * t);
-        X0 += 0.00000005958 * Math.cos(0.33507108266 + 6681.2248533996 * t);
-        X0 += 0.00000005982 * Math.cos(2.16507598652 + 426.598190876 * t);
-        X0 += 0.00000007242 * Math.cos(0.18019941143 + 25158.6017197654 * t);
-        X0 += 0.00000004940 * Math.cos(3.65883501045 + 3149.1641605882 * t);
-        X0 += 0.00000005637 * Math.cos(2.38025391336 + 382.8965322232 * t);
-        X0 += 0.00000004570 * Math.cos(2.63257803672 + 14765.2390432698 * t);
-        X0 += 0.00000004689 * Math.cos(0.27530100709 + 18849.2275499742 * t);
-        X0 += 0.00000005332 * Math.cos(4.44058586883 + 26087.9031415742 * t);
-        X0 += 0.00000005081 * Math.cos(2.77574657924 + 20452.8694122218 * t);
-        X0 += 0.00000005495 * Math.cos(3.29347843305 + 17085.9586657222 * t);
-        X0 += 0.00000005436 * Math.cos(5.41859714400 + 33794.5437235286 * t);
-        X0 += 0.00000003866 * Math.cos(2.86208012723 + 13745.3462390224 * t);
-        X0 += 0.00000003943 * Math.cos(3.08912453167 + 4732.0306273434 * t);
-        X0 += 0.00000003635 * Math.cos(0.35356507493 + 1551.045222648 * t);
-        X0 += 0.00000003772 * Math.cos(1.01689124687 + 18307.8072320436 * t);
-        X0 += 0.00000004327 * Math.cos(3.40429598827 + 23958.6317852334 * t);
-        X0 += 0.00000003885 * Math.cos(1.61513228322 + 29088.811415985 * t);
-        X0 += 0.00000002949 * Math.cos(2.82363129759 + 10198.033075026 * t);
-        X0 += 0.00000002944 * Math.cos(0.38707317908 + 10228.538017396 * t);
-        X0 += 0.00000003221 * Math.cos(0.43638422742 + 20400.2727726222 * t);
-        X0 += 0.00000002493 * Math.cos(5.95440151056 + 17277.4069318338 * t);
-        X0 += 0.00000002747 * Math.cos(1.78150237025 + 5481.2549188676 * t);
-        X0 += 0.00000002549 * Math.cos(2.85980700621 + 6872.6731195112 * t);
-        X0 += 0.00000002431 * Math.cos(3.85585401608 + 30110.1656735384 * t);
-        X0 += 0.00000002294 * Math.cos(3.89566278246 + 3442.5749449654 * t);
-        X0 += 0.00000002424 * Math.cos(0.96902079851 + 20956.2620575166 * t);
-        X0 += 0.00000002742 * Math.cos(5.30280142666 + 27511.4678735372 * t);
-        X0 += 0.00000002212 * Math.cos(5.16572775524 + 14945.3161735544 * t);
-        X0 += 0.00000002649 * Math.cos(3.69610044860 + 9580.5018068978 * t);
-        X0 += 0.00000002021 * Math.cos(1.06602786364 + 19999.97290154599 * t);
-        X0 += 0.00000002372 * Math.cos(5.35791881546 + 9573.388259897 * t);
-        X0 += 0.00000002205 * Math.cos(3.60992396033 + 536.8045120954 * t);
-        X0 += 0.00000002011 * Math.cos(0.56822837266 + 21202.093703746 * t);
-        X0 += 0.00000002471 * Math.cos(5.74724422420 + 10846.0692855242 * t);
-        X0 += 0.00000001827 * Math.cos(3.06851083486 + 7064.1213856228 * t);
-        X0 += 0.00000002188 * Math.cos(5.98208928052 + 9967.4538999816 * t);
-        X0 += 0.00000001812 * Math.cos(4.00455436862 + 22779.4372461938 * t);
-        X0 += 0.00000002278 * Math.cos(4.39189942690 + 10110.1927719924 * t);
-        X0 += 0.00000002278 * Math.cos(5.10198662047 + 10316.3783204296 * t);
-        X0 += 0.00000002104 * Math.cos(0.71768958427 + 522.5774180938 * t);
-        X0 += 0.00000002118 * Math.cos(3.51159941917 + 10459.1171924404 * t);
-        X0 += 0.00000001753 * Math.cos(0.39882451630 + 13553.8979729108 * t);
-        X0 += 0.00000002246 * Math.cos(3.03979815042 + 33019.0211122046 * t);
-        X0 += 0.00000002050 * Math.cos(4.25748513060 + 9690.7081281172 * t);
-        X0 += 0.00000001832 * Math.cos(5.56224262077 + 20809.4676246452 * t);
-        X0 += 0.00000001962 * Math.cos(5.23480186630 + 10735.8629643048 * t);
-        X0 += 0.00000001484 * Math.cos(2.74088797191 + 3723.508958923 * t);
-        X0 += 0.00000002057 * Math.cos(0.56837576346 + 37724.7534197482 * t);
-        X0 += 0.00000001987 * Math.cos(1.97150363851 + 103.0927742186 * t);
-        X0 += 0.00000001659 * Math.cos(1.57309692340 + 20235.1228263104 * t);
-        X0 += 0.00000001553 * Math.cos(4.88459995586 + 9161.0171630226 * t);
-        X0 += 0.00000001873 * Math.cos(1.50261813839 + 30213.258447757 * t);
-        X0 += 0.00000001541 * Math.cos(4.02220022796 + 6489.776587288 * t);
-        X0 += 0.00000001360 * Math.cos(5.79998899684 + 10232.95530711079 * t);
-        X0 += 0.00000001360 * Math.cos(3.69389705053 + 10193.61578531121 * t);
-        X0 += 0.00000001592 * Math.cos(2.48951212353 + 10288.0671447783 * t);
-        X0 += 0.00000001592 * Math.cos(0.72118861666 + 10138.5039476437 * t);
-        X0 += 0.00000001271 * Math.cos(5.70934511266 + 13936.794505134 * t);
-        X0 += 0.00000001238 * Math.cos(3.79102501998 + 20.7753954924 * t);
-        X0 += 0.00000001560 * Math.cos(0.36404331783 + 9896.8936765544 * t);
-        X0 += 0.00000001560 * Math.cos(2.84665742236 + 10529.6774158676 * t);
-        X0 += 0.00000001179 * Math.cos(6.00538975341 + 14919.0178537546 * t);
-        X0 += 0.00000001466 * Math.cos(2.04239320632 + 9146.790069021 * t);
-        X0 += 0.00000001158 * Math.cos(3.85902457723 + 10632.7701900862 * t);
-        X0 += 0.00000001259 * Math.cos(4.23560000055 + 2379.1644735716 * t);
-        X0 += 0.00000001493 * Math.cos(1.40653635325 + 22805.7355659936 * t);
-        X0 += 0.00000001402 * Math.cos(5.00430127066 + 10639.883737087 * t);
-        X0 += 0.00000001129 * Math.cos(5.77658236271 + 9793.8009023358 * t);
-        X0 += 0.00000001342 * Math.cos(4.46625072671 + 36949.2308084242 * t);
-        X0 += 0.00000000968 * Math.cos(1.59662059386 + 639.897286314 * t);
-        X0 += 0.00000001190 * Math.cos(4.52803152244 + 39264.0692895602 * t);
-        X0 += 0.00000001013 * Math.cos(2.10885792626 + 10419.4710946482 * t);
-        X0 += 0.00000001010 * Math.cos(1.09565332862 + 10007.0999977738 * t);
-        X0 += 0.00000001226 * Math.cos(5.50768847726 + 74.7815985673 * t);
-        X0 += 0.00000000996 * Math.cos(4.53849426210 + 13341.6743113068 * t);
-        X0 += 0.00000001126 * Math.cos(1.83484274734 + 245.8316462294 * t);
-        X0 += 0.00000000846 * Math.cos(0.63826672604 + 18875.525869774 * t);
-        X0 += 0.00000001139 * Math.cos(2.43229399782 + 2118.7638603784 * t);
-        X0 += 0.00000000845 * Math.cos(6.08176877562 + 9676.4810341156 * t);
-        X0 += 0.00000000760 * Math.cos(4.01810781408 + 7564.830720738 * t);
-        X0 += 0.00000000786 * Math.cos(2.08323238184 + 11764.330768859 * t);
-        X0 += 0.00000000795 * Math.cos(3.42432291896 + 10750.0900583064 * t);
-        X0 += 0.00000000770 * Math.cos(0.68487491199 + 7834.1210726394 * t);
-        X0 += 0.00000000698 * Math.cos(3.40358510787 + 36147.4098773004 * t);
-        X0 += 0.00000000906 * Math.cos(0.29625818951 + 31441.6775697568 * t);
-        X0 += 0.00000000787 * Math.cos(5.89002463165 + 19889.76658032659 * t);
-        X0 += 0.00000000788 * Math.cos(0.18032696972 + 7994.5284420242 * t);
-        X0 += 0.00000000624 * Math.cos(2.84767789659 + 39793.7602546548 * t);
-        X0 += 0.00000000865 * Math.cos(1.99609335238 + 41654.9631159678 * t);
-        X0 += 0.00000000744 * Math.cos(2.51526632902 + 19903.99367432819 * t);
-        X0 += 0.00000000689 * Math.cos(4.60518059807 + 1066.49547719 * t);
-        X0 += 0.00000000823 * Math.cos(5.88974834586 + 40879.4405046438 * t);
-        X0 += 0.00000000592 * Math.cos(0.65691971752 + 17778.11626694899 * t);
-        X0 += 0.00000000770 * Math.cos(2.88484885613 + 26735.9452622132 * t);
-        X0 += 0.00000000715 * Math.cos(5.24194846626 + 16983.9961474566 * t);
-        X0 += 0.00000000569 * Math.cos(1.11632920377 + 19786.67380610799 * t);
-        X0 += 0.00000000621 * Math.cos(1.17055028822 + 52175.8062831484 * t);
-        X0 += 0.00000000548 * Math.cos(1.60570553727 + 27197.2816936676 * t);
-        X0 += 0.00000000544 * Math.cos(3.16092493258 + 110.2063212194 * t);
-        X0 += 0.00000000605 * Math.cos(4.63445753926 + 10059.5067357262 * t);
-        X0 += 0.00000000552 * Math.cos(2.14941738098 + 28521.0927782546 * t);
-        X0 += 0.00000000676 * Math.cos(5.20222552429 + 20529.66386664059 * t);
-        X0 += 0.00000000593 * Math.cos(4.85950564308 + 10367.0643566958 * t);
-        X0 += 0.00000000514 * Math.cos(5.06894525071 + 8662.240323563 * t);
-        X0 += 0.00000000661 * Math.cos(0.05527791273 + 1162.4747044078 * t);
-        X0 += 0.00000000469 * Math.cos(5.48839305777 + 8631.326197928 * t);
-        X0 += 0.00000000454 * Math.cos(0.79241873074 + 10042.6126755918 * t);
-        X0 += 0.00000000515 * Math.cos(2.92229144851 + 12432.0426503978 * t);
-        X0 += 0.00000000444 * Math.cos(2.41828206903 + 10383.9584168302 * t);
-        X0 += 0.00000000460 * Math.cos(0.69107495802 + 11802.3584414948 * t);
-        X0 += 0.00000000436 * Math.cos(1.85693485685 + 9638.9407478762 * t);
-        X0 += 0.00000000422 * Math.cos(1.39991487980 + 10787.6303445458 * t);
-        X0 += 0.00000000416 * Math.cos(1.72605691131 + 10225.014899047 * t);
-        X0 += 0.00000000416 * Math.cos(1.48464382888 + 10201.556193375 * t);
-        X0 += 0.00000000431 * Math.cos(1.72994989473 + 8617.0991039264 * t);
-        X0 += 0.00000000548 * Math.cos(5.68904924324 + 8521.1198767086 * t);
-        X0 += 0.00000000381 * Math.cos(0.22534351229 + 19317.1925403286 * t);
-        X0 += 0.00000000377 * Math.cos(5.67325483442 + 149.5631971346 * t);
-        X0 += 0.00000000466 * Math.cos(5.23261301624 + 6770.7106012456 * t);
-        X0 += 0.00000000444 * Math.cos(1.73410494666 + 2218.7571041868 * t);
-        X0 += 0.00000000511 * Math.cos(1.02944887408 + 44809.6502008634 * t);
-        X0 += 0.00000000363 * Math.cos(4.26514474189 + 30831.3049047446 * t);
-        X0 += 0.00000000489 * Math.cos(4.26102629725 + 30666.1549584328 * t);
-        X0 += 0.00000000354 * Math.cos(2.84306437211 + 10323.4918674304 * t);
-        X0 += 0.00000000354 * Math.cos(0.36763636808 + 10103.0792249916 * t);
-        X0 += 0.00000000427 * Math.cos(2.66965454095 + 13655.8604911764 * t);
-        X0 += 0.00000000466 * Math.cos(5.30548072597 + 38.1330356378 * t);
-        X0 += 0.00000000400 * Math.cos(0.98930698981 + 1052.2683831884 * t);
-        X0 += 0.00000000359 * Math.cos(0.09178138960 + 27490.6924780448 * t);
-        X0 += 0.00000000366 * Math.cos(3.21039535060 + 283.8593188652 * t);
-        X0 += 0.00000000315 * Math.cos(0.01870495544 + 20639.87018786 * t);
-        X0 += 0.00000000364 * Math.cos(4.22573825928 + 38734.3783244656 * t);
-        X0 += 0.00000000399 * Math.cos(4.24912842655 + 10211.8010735027 * t);
-        X0 += 0.00000000399 * Math.cos(5.24475762082 + 10214.7700189193 * t);
-        X0 += 0.00000000388 * Math.cos(2.28168065953 + 29999.959352319 * t);
-        X0 += 0.00000000398 * Math.cos(3.64836729223 + 9835.9119382952 * t);
-        X0 += 0.00000000404 * Math.cos(3.98593080979 + 20351.7894938547 * t);
-        X0 += 0.00000000385 * Math.cos(1.36867886553 + 20180.7394461926 * t);
-        X0 += 0.00000000379 * Math.cos(5.84551887726 + 10590.6591541268 * t);
-        X0 += 0.00000000300 * Math.cos(5.68088059375 + 24150.080051345 * t);
-        X0 += 0.00000000283 * Math.cos(5.59475061655 + 26709.6469424134 * t);
-        X0 += 0.00000000390 * Math.cos(3.42415946376 + 45585.1728121874 * t);
-        X0 += 0.00000000365 * Math.cos(1.42467845102 + 10348.910871221 * t);
-        X0 += 0.00000000365 * Math.cos(1.78602228917 + 10077.660221201 * t);
-        X0 += 0.00000000336 * Math.cos(0.74367409336 + 220.4126424388 * t);
-        X0 += 0.00000000309 * Math.cos(5.67052430501 + 6309.3741697912 * t);
-        X0 += 0.00000000283 * Math.cos(5.53469245500 + 3903.9113764198 * t);
-        X0 += 0.00000000271 * Math.cos(3.85648668964 + 9745.3205558566 * t);
-        X0 += 0.00000000327 * Math.cos(6.11774154244 + 9360.089164459 * t);
-        X0 += 0.00000000264 * Math.cos(5.16129358878 + 76.2660712756 * t);
-        X0 += 0.00000000343 * Math.cos(3.92438566200 + 206.1855484372 * t);
-        X0 += 0.00000000314 * Math.cos(1.40080599663 + 20405.7956969296 * t);
-        X0 += 0.00000000306 * Math.cos(1.12587272451 + 2957.7158944766 * t);
-        X0 += 0.00000000254 * Math.cos(5.63745223648 + 10681.2505365654 * t);
-        X0 += 0.00000000343 * Math.cos(4.64296056111 + 8106.2510386686 * t);
-        X0 += 0.00000000324 * Math.cos(3.98782911883 + 31749.2351907264 * t);
-        X0 += 0.00000000234 * Math.cos(3.82015244739 + 19624.7501612982 * t);
-        X0 += 0.00000000281 * Math.cos(0.78332222978 + 9399.7352622512 * t);
-        X0 += 0.00000000322 * Math.cos(2.45576489589 + 48739.859897083 * t);
-        X0 += 0.00000000308 * Math.cos(0.46119280399 + 37410.5672398786 * t);
-        X0 += 0.00000000230 * Math.cos(4.91404068561 + 574.3447983348 * t);
-        X0 += 0.00000000228 * Math.cos(4.45814031952 + 949.1756089698 * t);
-        X0 += 0.00000000295 * Math.cos(5.75145374701 + 34596.3646546524 * t);
-        X0 += 0.00000000261 * Math.cos(5.54107777950 + 632.7837393132 * t);
-        X0 += 0.00000000214 * Math.cos(0.59816494895 + 12592.4500197826 * t);
-        X0 += 0.00000000233 * Math.cos(4.35078533465 + 9264.1099372412 * t);
-        X0 += 0.00000000255 * Math.cos(4.03464641753 + 9992.8729037722 * t);
-        X0 += 0.00000000255 * Math.cos(5.45923962984 + 10433.6981886498 * t);
-        X0 += 0.00000000211 * Math.cos(0.18276464350 + 10249.3134128884 * t);
-        X0 += 0.00000000211 * Math.cos(3.02793609669 + 10177.2576795336 * t);
-        X0 += 0.00000000255 * Math.cos(2.42745817670 + 11026.8358301708 * t);
-        X0 += 0.00000000288 * Math.cos(1.80083466219 + 35371.8872659764 * t);
-        X0 += 0.00000000221 * Math.cos(0.56282855969 + 38.0276726358 * t);
-        X0 += 0.00000000224 * Math.cos(4.78244233129 + 19360.07561523199 * t);
-        X0 += 0.00000000247 * Math.cos(1.90808707769 + 29587.5882554446 * t);
-        X0 += 0.00000000206 * Math.cos(3.37469119852 + 30426.557543195 * t);
-        X0 += 0.00000000263 * Math.cos(3.16130275876 + 20433.6846394228 * t);
-        X0 += 0.00000000212 * Math.cos(3.16045353079 + 10206.65698731099 * t);
-        X0 += 0.00000000212 * Math.cos(0.05024720940 + 10219.91410511101 * t);
-        X0 += 0.00000000202 * Math.cos(0.82731831247 + 16894.5103996106 * t);
-        X0 += 0.00000000272 * Math.cos(4.85092274037 + 12320.3200537534 * t);
-        X0 += 0.00000000258 * Math.cos(5.22999934273 + 29573.361161443 * t);
-        X0 += 0.00000000211 * Math.cos(5.11529334983 + 11162.4611551808 * t);
-        X0 += 0.00000000210 * Math.cos(5.15156975899 + 22645.32819660879 * t);
-        X0 += 0.00000000267 * Math.cos(4.30118423273 + 377.3736079158 * t);
-        X0 += 0.00000000186 * Math.cos(4.53704574212 + 10251.4185818488 * t);
-        X0 += 0.00000000186 * Math.cos(4.95684030525 + 10175.1525105732 * t);
-        X0 += 0.00000000258 * Math.cos(2.52339488384 + 9864.361125763 * t);
-        X0 += 0.00000000186 * Math.cos(4.87586761272 + 17271.8840075264 * t);
-        X0 += 0.00000000254 * Math.cos(3.15931084747 + 19264.0963880142 * t);
-        X0 += 0.00000000240 * Math.cos(1.30869138812 + 16522.6597160022 * t);
-        X0 += 0.00000000246 * Math.cos(0.68740438301 + 10562.209966659 * t);
-        X0 += 0.00000000211 * Math.cos(6.16254771086 + 11375.7602506188 * t);
-        X0 += 0.00000000178 * Math.cos(0.50910605505 + 10949.1620597428 * t);
-        X0 += 0.00000000178 * Math.cos(2.70159468514 + 9477.4090326792 * t);
-        X0 += 0.00000000197 * Math.cos(0.96052683602 + 1692.1656695024 * t);
-        X0 += 0.00000000174 * Math.cos(4.78535633940 + 40077.61957352 * t);
-        X0 += 0.00000000177 * Math.cos(0.12290786955 + 20316.36477120259 * t);
-        X0 += 0.00000000173 * Math.cos(1.33272334806 + 8734.4189721466 * t);
-        X0 += 0.00000000196 * Math.cos(4.69372863801 + 9779.5738083342 * t);
-        X0 += 0.00000000198 * Math.cos(3.27402275626 + 27991.40181316 * t);
-        X0 += 0.00000000154 * Math.cos(0.72358681867 + 10199.0584522094 * t);
-        X0 += 0.00000000154 * Math.cos(2.48711392152 + 10227.5126402126 * t);
-        X0 += 0.00000000189 * Math.cos(0.66769513206 + 9256.9963902404 * t);
-        X0 += 0.00000000193 * Math.cos(2.39642315228 + 17468.8551979454 * t);
-        X0 += 0.00000000205 * Math.cos(3.90575045563 + 52670.0695933026 * t);
-        X0 += 0.00000000172 * Math.cos(1.89149575452 + 14.2270940016 * t);
-        X0 += 0.00000000166 * Math.cos(3.75162140471 + 10263.0425716828 * t);
-        X0 += 0.00000000166 * Math.cos(5.74226464266 + 10163.5285207392 * t);
-        X0 += 0.00000000168 * Math.cos(5.33584294691 + 7991.428911614 * t);
-        X0 += 0.00000000194 * Math.cos(0.90820651456 + 38526.574350872 * t);
-        X0 += 0.00000000196 * Math.cos(4.87499369677 + 49515.382508407 * t);
-        X0 += 0.00000000196 * Math.cos(3.44370650262 + 846.0828347512 * t);
-        X0 += 0.00000000169 * Math.cos(5.71918201676 + 11265.5539293994 * t);
-        X0 += 0.00000000194 * Math.cos(2.26711785239 + 8837.5117463652 * t);
-        X0 += 0.00000000140 * Math.cos(0.33029139370 + 10191.4347168846 * t);
-        X0 += 0.00000000140 * Math.cos(2.88040934649 + 10235.1363755374 * t);
-        X0 += 0.00000000196 * Math.cos(2.27333422690 + 1293.4842235826 * t);
-        X0 += 0.00000000162 * Math.cos(5.59199233193 + 7255.5696517344 * t);
-        X0 += 0.00000000138 * Math.cos(0.38495137130 + 10217.2176994741 * t);
-        X0 += 0.00000000138 * Math.cos(2.82574936889 + 10209.3533929479 * t);
-        X0 += 0.00000000149 * Math.cos(2.28858934145 + 19374.3027092336 * t);
-        X0 += 0.00000000143 * Math.cos(1.40332876782 + 20447.3464879144 * t);
-        X0 += 0.00000000126 * Math.cos(3.82073811345 + 20277.0078952874 * t);
-        X0 += 0.00000000162 * Math.cos(1.69374604806 + 10063.7223490764 * t);
-        X0 += 0.00000000149 * Math.cos(2.18564631641 + 10135.611775783 * t);
-        X0 += 0.00000000149 * Math.cos(1.02505442378 + 10290.959316639 * t);
-        X0 += 0.00000000117 * Math.cos(0.93777977092 + 1581.959348283 * t);
-        X0 += 0.00000000151 * Math.cos(0.84241735172 + 10245.8180970024 * t);
-        X0 += 0.00000000151 * Math.cos(2.36828338847 + 10180.7529954196 * t);
-        X0 += 0.00000000152 * Math.cos(4.60730376543 + 18830.38465013739 * t);
-        X0 += 0.00000000144 * Math.cos(3.98382443588 + 24383.0791084414 * t);
-        X0 += 0.00000000114 * Math.cos(4.16184056386 + 32858.61374281979 * t);
-        X0 += 0.00000000144 * Math.cos(3.82694942167 + 9985.809413422 * t);
-        X0 += 0.00000000144 * Math.cos(5.66693662570 + 10440.76167900 * t);
-        X0 += 0.00000000143 * Math.cos(1.56048542507 + 18844.61174413899 * t);
-        X0 += 0.00000000130 * Math.cos(5.57171941495 + 10236.0607476618 * t);
-        X0 += 0.00000000130 * Math.cos(3.92216663242 + 10190.5103447602 * t);
-        X0 += 0.00000000156 * Math.cos(4.19081128787 + 20388.4380567842 * t);
-        X0 += 0.00000000155 * Math.cos(0.85940335797 + 8237.793000355 * t);
-        X0 += 0.00000000131 * Math.cos(5.39530111218 + 8101.6352328334 * t);
-        X0 += 0.00000000111 * Math.cos(2.93356769076 + 43071.8992890308 * t);
-        X0 += 0.00000000099 * Math.cos(4.32745781002 + 24978.5245894808 * t);
-        X0 += 0.00000000101 * Math.cos(5.26437713251 + 20043.6745601988 * t);
-        X0 += 0.00000000113 * Math.cos(4.29323425653 + 3.9321532631 * t);
-        X0 += 0.00000000132 * Math.cos(5.33260115213 + 56600.2792895222 * t);
-        X0 += 0.00000000136 * Math.cos(6.07742370370 + 5999.2165311262 * t);
-        X0 += 0.00000000127 * Math.cos(2.33491999261 + 42456.7840470916 * t);
-        X0 += 0.00000000097 * Math.cos(0.92060560081 + 853.196381752 * t);
-        X0 += 0.00000000131 * Math.cos(3.21869975863 + 4176.041342449 * t);
-        X0 += 0.00000000106 * Math.cos(1.57523662131 + 19573.37471066999 * t);
-        X0 += 0.00000000112 * Math.cos(2.47056814408 + 20206.15844998319 * t);
-        X0 += 0.00000000093 * Math.cos(0.23284844018 + 8204.728007052 * t);
-        X0 += 0.00000000098 * Math.cos(3.12531862236 + 11059.3683809622 * t);
-        X0 += 0.00000000090 * Math.cos(2.40621950932 + 29057.89729034999 * t);
-        X0 += 0.00000000103 * Math.cos(5.15240336003 + 10244.199671846 * t);
-        X0 += 0.00000000103 * Math.cos(4.34148268734 + 10182.371420576 * t);
-        X0 += 0.00000000125 * Math.cos(2.35130047125 + 12188.778092067 * t);
-        X0 += 0.00000000095 * Math.cos(4.18811631729 + 78263.70942472259 * t);
-        X0 += 0.00000000088 * Math.cos(4.33292988106 + 20350.3050211464 * t);
-        X0 += 0.00000000105 * Math.cos(3.96512076229 + 19793.7873531088 * t);
-        X0 += 0.00000000122 * Math.cos(5.43246799719 + 2636.725472637 * t);
-        X0 += 0.00000000095 * Math.cos(3.90711906214 + 2333.196392872 * t);
-        X0 += 0.00000000087 * Math.cos(1.36045970674 + 8087.4081388318 * t);
-        X0 += 0.00000000086 * Math.cos(3.64749231964 + 7035.1397556434 * t);
-        X0 += 0.00000000095 * Math.cos(2.03086124785 + 10202.2398459471 * t);
-        X0 += 0.00000000095 * Math.cos(1.17983949234 + 10224.3312464749 * t);
-        X0 += 0.00000000084 * Math.cos(1.22799614537 + 10401.2106939736 * t);
-        X0 += 0.00000000084 * Math.cos(1.98270459482 + 10025.3603984484 * t);
-        X0 += 0.00000000085 * Math.cos(5.03727591626 + 19477.39548345219 * t);
-        X0 += 0.00000000099 * Math.cos(2.80246425084 + 2648.454825473 * t);
-        X0 += 0.00000000087 * Math.cos(4.97431232996 + 29043.67019634839 * t);
-        X0 += 0.00000000082 * Math.cos(6.17390445678 + 44007.8292697396 * t);
-        X0 += 0.00000000093 * Math.cos(4.35602536763 + 5.5229243074 * t);
-        X0 += 0.00000000098 * Math.cos(5.37191506696 + 20220.3855439848 * t);
-        X0 += 0.00000000100 * Math.cos(5.07106883209 + 1596.1864422846 * t);
-        X0 += 0.00000000095 * Math.cos(3.35136515938 + 29477.3819342252 * t);
-        X0 += 0.00000000096 * Math.cos(1.62154996582 + 30206.14490075619 * t);
-        X0 += 0.00000000095 * Math.cos(4.51772320117 + 30220.3719947578 * t);
-        X0 += 0.00000000089 * Math.cos(3.13112055622 + 29786.660256881 * t);
-        X0 += 0.00000000107 * Math.cos(4.65459265447 + 2069.0068349066 * t);
-        X0 += 0.00000000100 * Math.cos(4.44047000599 + 38500.2760310722 * t);
-        X0 += 0.00000000077 * Math.cos(3.58586905737 + 10853.182832525 * t);
-        X0 += 0.00000000076 * Math.cos(4.87466102622 + 10243.1069843598 * t);
-        X0 += 0.00000000076 * Math.cos(4.61922502115 + 10183.4641080622 * t);
-        X0 += 0.00000000101 * Math.cos(0.03242064905 + 53445.5922046266 * t);
-        X0 += 0.00000000086 * Math.cos(2.29756841695 + 18734.4054229196 * t);
-        X0 += 0.00000000076 * Math.cos(6.08479538571 + 956.2891559706 * t);
-        X0 += 0.00000000100 * Math.cos(2.64031933351 + 28947.6909691306 * t);
-        X0 += 0.00000000073 * Math.cos(1.68280932827 + 21000.9158907568 * t);
-        X0 += 0.00000000073 * Math.cos(0.32333160897 + 17248.4253018544 * t);
-        X0 += 0.00000000094 * Math.cos(5.44157645789 + 28313.288804661 * t);
-        X0 += 0.00000000085 * Math.cos(5.27335453034 + 3914.9572250346 * t);
-        X0 += 0.00000000074 * Math.cos(1.92420739215 + 8827.3902698748 * t);
-        X0 += 0.00000000070 * Math.cos(1.49155244201 + 6298.3283211764 * t);
-        X0 += 0.00000000069 * Math.cos(2.29681555948 + 34570.0663348526 * t);
-        X0 += 0.00000000071 * Math.cos(3.95871098581 + 34171.9173314444 * t);
-        X0 += 0.00000000079 * Math.cos(2.65919074354 + 10018.3141617504 * t);
-        X0 += 0.00000000079 * Math.cos(0.55150999665 + 10408.2569306716 * t);
-        X0 += 0.00000000080 * Math.cos(2.11794073365 + 14128.2427712456 * t);
-        X0 += 0.00000000087 * Math.cos(3.78428652532 + 46386.9937433112 * t);
-        X0 += 0.00000000069 * Math.cos(0.90460126437 + 41044.5904509556 * t);
-        X0 += 0.00000000069 * Math.cos(2.25427054035 + 9644.4636721836 * t);
-        X0 += 0.00000000069 * Math.cos(0.95643019984 + 10782.1074202384 * t);
-        X0 += 0.00000000083 * Math.cos(5.79338403589 + 9721.6222537522 * t);
-        X0 += 0.00000000083 * Math.cos(3.70050201148 + 10704.9488386698 * t);
-        X0 += 0.00000000090 * Math.cos(5.18770728347 + 20049.1974845062 * t);
-        X0 += 0.00000000076 * Math.cos(1.05201678798 + 21485.95302261119 * t);
-        X0 += 0.00000000064 * Math.cos(1.61066481633 + 18314.9207790444 * t);
-        X0 += 0.00000000071 * Math.cos(6.14408943769 + 1573.8204240988 * t);
-        X0 += 0.00000000071 * Math.cos(5.46198489134 + 1580.8666607968 * t);
-        X0 += 0.00000000067 * Math.cos(0.48620096430 + 3956.5080160194 * t);
-        X0 += 0.00000000085 * Math.cos(0.47649339021 + 60530.4889857418 * t);
-        X0 += 0.00000000087 * Math.cos(5.47908592763 + 29264.0828387872 * t);
-        X0 += 0.00000000060 * Math.cos(1.34871003737 + 20421.0481681146 * t);
-        X0 += 0.00000000064 * Math.cos(4.29919445052 + 18300.69368504279 * t);
-        X0 += 0.00000000076 * Math.cos(3.93987139141 + 29683.56748266239 * t);
-        X0 += 0.00000000062 * Math.cos(1.28649389372 + 11599.1808225472 * t);
-        X0 += 0.00000000058 * Math.cos(3.08212047215 + 7576.560073574 * t);
-        X0 += 0.00000000057 * Math.cos(3.67915137516 + 11279.781023401 * t);
-        X0 += 0.00000000066 * Math.cos(3.67579379885 + 18100.00325845 * t);
-        X0 += 0.00000000059 * Math.cos(1.26040809465 + 10254.8363371958 * t);
-        X0 += 0.00000000059 * Math.cos(1.95029264554 + 10171.7347552262 * t);
-        X0 += 0.00000000057 * Math.cos(4.06263183264 + 20464.5987650578 * t);
-        X0 += 0.00000000079 * Math.cos(1.97795760115 + 10137.0194749354 * t);
-        X0 += 0.00000000064 * Math.cos(5.57155754500 + 30007.0728993198 * t);
-        X0 += 0.00000000058 * Math.cos(3.05734136153 + 75449.50683949639 * t);
-        X0 += 0.00000000073 * Math.cos(3.85067893410 + 51449.3242632782 * t);
-        X0 += 0.00000000074 * Math.cos(5.48466882213 + 21720.0553160046 * t);
-        X0 += 0.00000000072 * Math.cos(3.24619558125 + 39302.096962196 * t);
-        X0 += 0.00000000072 * Math.cos(4.47140920987 + 100608.10855926179 * t);
-        X0 += 0.00000000070 * Math.cos(5.15360777942 + 50317.2034395308 * t);
-        X0 += 0.00000000052 * Math.cos(2.09263469212 + 40426.543993968 * t);
-        X0 += 0.00000000058 * Math.cos(1.31187367842 + 20412.34399842039 * t);
-        X0 += 0.00000000055 * Math.cos(5.75623323744 + 1478.8665740644 * t);
-        X0 += 0.00000000057 * Math.cos(1.89761311531 + 8307.8207812706 * t);
-        X0 += 0.00000000065 * Math.cos(1.67946533112 + 53285.1848352418 * t);
-        X0 += 0.00000000050 * Math.cos(4.69707035274 + 8418.02710249 * t);
-        X0 += 0.00000000066 * Math.cos(6.05166710265 + 19580.4882576708 * t);
-        X0 += 0.00000000047 * Math.cos(4.81853147221 + 38741.4918714664 * t);
-        X0 += 0.00000000050 * Math.cos(1.33990099082 + 59160.9494168876 * t);
-        X0 += 0.00000000056 * Math.cos(3.53833578370 + 34363.365597556 * t);
-        X0 += 0.00000000054 * Math.cos(0.68665384144 + 48947.6638706766 * t);
-        X0 += 0.00000000045 * Math.cos(4.21526527082 + 194.9713844606 * t);
-        X0 += 0.00000000056 * Math.cos(1.07866938616 + 9936.5397743466 * t);
-        X0 += 0.00000000056 * Math.cos(2.13203135403 + 10490.0313180754 * t);
-        X0 += 0.00000000054 * Math.cos(4.49664827025 + 9922.312680345 * t);
-        X0 += 0.00000000054 * Math.cos(4.99723777712 + 10504.258412077 * t);
-        X0 += 0.00000000060 * Math.cos(2.00609002833 + 18204.71445782499 * t);
-        X0 += 0.00000000048 * Math.cos(1.22735240928 + 38727.2647774648 * t);
-        X0 += 0.00000000044 * Math.cos(5.84040951995 + 38204.687359371 * t);
-        X0 += 0.00000000061 * Math.cos(5.98664723657 + 10139.988420352 * t);
-        X0 += 0.00000000061 * Math.cos(3.50723881080 + 10286.58267207 * t);
-        X0 += 0.00000000061 * Math.cos(0.57175309158 + 6566.9351688566 * t);
-        X0 += 0.00000000060 * Math.cos(2.76944336702 + 3684.3780499902 * t);
-        X0 += 0.00000000048 * Math.cos(3.35196570960 + 9246.3146687754 * t);
-        X0 += 0.00000000049 * Math.cos(2.38104573869 + 47623.8527860896 * t);
-        X0 += 0.00000000060 * Math.cos(3.41701626624 + 14427.3545612958 * t);
-        X0 += 0.00000000051 * Math.cos(5.43117183762 + 9566.2747128962 * t);
-        X0 += 0.00000000052 * Math.cos(0.06129028276 + 8727.3054251458 * t);
-        X0 += 0.00000000048 * Math.cos(2.05391369918 + 433.7117378768 * t);
-        X0 += 0.00000000045 * Math.cos(5.52086086974 + 10263.2821681152 * t);
-        X0 += 0.00000000045 * Math.cos(3.97302517763 + 10163.2889243068 * t);
-        X0 += 0.00000000049 * Math.cos(1.65627933457 + 9794.3611473104 * t);
-        X0 += 0.00000000049 * Math.cos(1.55442140562 + 10632.2099451116 * t);
-        X0 += 0.00000000054 * Math.cos(1.47632908603 + 57375.8019008462 * t);
-        X0 += 0.00000000058 * Math.cos(6.19295972616 + 1861.202861313 * t);
-        X0 += 0.00000000047 * Math.cos(1.50917280490 + 20142.7117735568 * t);
-        X0 += 0.00000000056 * Math.cos(1.90382257572 + 64460.6986819614 * t);
-        X0 += 0.00000000042 * Math.cos(2.81747931977 + 25132.3033999656 * t);
-        X0 += 0.00000000046 * Math.cos(5.38584594180 + 2349.3430354228 * t);
-        X0 += 0.00000000046 * Math.cos(4.70373951682 + 2356.3892721208 * t);
-        X0 += 0.00000000044 * Math.cos(2.04804189558 + 30632.74309163219 * t);
-        X0 += 0.00000000044 * Math.cos(3.19618376464 + 27461.7108480654 * t);
-        X0 += 0.00000000041 * Math.cos(0.12857964444 + 12850.011018848 * t);
-        X0 += 0.00000000042 * Math.cos(5.08305246551 + 77802.37299326819 * t);
-        X0 += 0.00000000050 * Math.cos(3.02284234315 + 36301.18868778519 * t);
-        X0 += 0.00000000044 * Math.cos(0.04275677189 + 9367.2027114598 * t);
-        X0 += 0.00000000044 * Math.cos(4.46864162759 + 79379.716535716 * t);
-        X0 += 0.00000000054 * Math.cos(4.54758275119 + 66038.04222440919 * t);
-        X0 += 0.00000000040 * Math.cos(1.16488473080 + 31022.7531708562 * t);
-        X0 += 0.00000000052 * Math.cos(2.92722662671 + 90394.82301305079 * t);
-        X0 += 0.00000000040 * Math.cos(0.23497278107 + 38519.945791972 * t);
-        X0 += 0.00000000039 * Math.cos(3.44427209717 + 28631.29909947399 * t);
-        X0 += 0.00000000052 * Math.cos(5.20963747195 + 38631.285550247 * t);
-        X0 += 0.00000000043 * Math.cos(6.14192019965 + 11180.2564236466 * t);
-        X0 += 0.00000000038 * Math.cos(1.29716058654 + 47938.0389659592 * t);
-        X0 += 0.00000000039 * Math.cos(1.02482380212 + 1265.5674786264 * t);
-        X0 += 0.00000000052 * Math.cos(1.99634485152 + 1.4844727083 * t);
-        X0 += 0.00000000039 * Math.cos(0.47445767706 + 54981.3849560896 * t);
-        X0 += 0.00000000044 * Math.cos(1.17091466926 + 10168.1443265744 * t);
-        X0 += 0.00000000044 * Math.cos(2.03978607093 + 10258.4267658476 * t);
-        X0 += 0.00000000047 * Math.cos(4.89732365161 + 187.9251477626 * t);
-        X0 += 0.00000000043 * Math.cos(5.12210246822 + 22030.2129546696 * t);
-        X0 += 0.00000000051 * Math.cos(5.89313829453 + 104538.3182554814 * t);
-        X0 += 0.00000000051 * Math.cos(6.27593798552 + 16250.529749973 * t);
-        X0 += 0.00000000037 * Math.cos(4.48691474448 + 29160.9900645686 * t);
-        X0 += 0.00000000043 * Math.cos(4.92338640427 + 10362.8487433456 * t);
-        X0 += 0.00000000038 * Math.cos(4.13589617678 + 47917.2635704668 * t);
-        X0 += 0.00000000037 * Math.cos(4.41298184434 + 6256.7775301916 * t);
-        X0 += 0.00000000036 * Math.cos(2.97028388691 + 8673.969676399 * t);
-        X0 += 0.00000000049 * Math.cos(1.96336022300 + 491.6632924588 * t);
-        X0 += 0.00000000035 * Math.cos(4.23887120976 + 55798.4583583984 * t);
-        X0 += 0.00000000035 * Math.cos(2.75316618128 + 12546.481939083 * t);
-        X0 += 0.00000000049 * Math.cos(0.68713949784 + 32243.4985008806 * t);
-        X0 += 0.00000000035 * Math.cos(1.54030603995 + 80482.46652890938 * t);
-        X0 += 0.00000000044 * Math.cos(4.30648713686 + 9697.821675118 * t);
-        X0 += 0.00000000044 * Math.cos(5.18739891051 + 10728.749417304 * t);
-        X0 += 0.00000000036 * Math.cos(2.23669262946 + 69941.95360082899 * t);
-        X0 += 0.00000000037 * Math.cos(3.25220014102 + 35191.8101356918 * t);
-        X0 += 0.00000000040 * Math.cos(2.23416725118 + 28418.000004036 * t);
-        X0 += 0.00000000035 * Math.cos(4.79214932619 + 10011.0321510369 * t);
-        X0 += 0.00000000035 * Math.cos(4.70173672118 + 10415.5389413851 * t);
-        X0 += 0.00000000034 * Math.cos(5.41644307615 + 48733.23133818299 * t);
-        X0 += 0.00000000033 * Math.cos(5.38015255564 + 49477.35483577119 * t);
-        X0 += 0.00000000033 * Math.cos(3.74889730790 + 10117.3063189932 * t);
-        X0 += 0.00000000033 * Math.cos(5.74498873947 + 10309.2647734288 * t);
-        X0 += 0.00000000034 * Math.cos(4.93633143876 + 7461.7379465194 * t);
-        X0 += 0.00000000032 * Math.cos(4.82073066675 + 100909.03762133139 * t);
-        X0 += 0.00000000042 * Math.cos(2.02575996826 + 36173.7081971002 * t);
-        X0 += 0.00000000038 * Math.cos(2.89788933077 + 115674.27666460119 * t);
-        X0 += 0.00000000031 * Math.cos(3.44788323640 + 30103.05212653759 * t);
-        X0 += 0.00000000039 * Math.cos(2.73013808773 + 316.3918696566 * t);
-        X0 += 0.00000000032 * Math.cos(3.76438941047 + 21977.61631507 * t);
-        X0 += 0.00000000036 * Math.cos(1.22867623820 + 20430.50324568509 * t);
-        X0 += 0.00000000031 * Math.cos(1.46724432126 + 50290.905119731 * t);
-        X0 += 0.00000000032 * Math.cos(0.22257491587 + 81732.5826894878 * t);
-        X0 += 0.00000000042 * Math.cos(2.48755696559 + 14169.7935622304 * t);
-        X0 += 0.00000000034 * Math.cos(4.16441980838 + 58946.51688439399 * t);
-        X0 += 0.00000000030 * Math.cos(2.52685372964 + 419.4846438752 * t);
-        X0 += 0.00000000030 * Math.cos(0.22687369463 + 51640.7725293898 * t);
-        X0 += 0.00000000031 * Math.cos(2.49011566919 + 11.0457002639 * t);
-        X0 += 0.00000000033 * Math.cos(5.88115236046 + 83309.92623193559 * t);
-        X0 += 0.00000000029 * Math.cos(0.24041707519 + 11752.601416023 * t);
-        X0 += 0.00000000029 * Math.cos(5.51688017902 + 9800.9144493366 * t);
-        X0 += 0.00000000029 * Math.cos(3.97700586835 + 10625.6566430854 * t);
-        X0 += 0.00000000030 * Math.cos(3.62180540908 + 20432.0940167294 * t);
-        X0 += 0.00000000029 * Math.cos(4.40925784627 + 9889.7801295536 * t);
-        X0 += 0.00000000029 * Math.cos(1.77614141850 + 224.3447957019 * t);
-        X0 += 0.00000000039 * Math.cos(5.97000692581 + 69968.2519206288 * t);
-        X0 += 0.00000000028 * Math.cos(0.27335698936 + 10098.84625752579 * t);
-        X0 += 0.00000000028 * Math.cos(2.93734375083 + 10327.72483489621 * t);
-        X0 += 0.00000000031 * Math.cos(3.65358279415 + 63498.47038145279 * t);
-        X0 += 0.00000000034 * Math.cos(4.23088120025 + 1539.315869812 * t);
-        X0 += 0.00000000028 * Math.cos(5.43510977873 + 1179.1945390396 * t);
-        X0 += 0.00000000039 * Math.cos(5.18936615352 + 30563.5905673574 * t);
-        X0 += 0.00000000039 * Math.cos(1.33255333737 + 5791.4125575326 * t);
-        X0 += 0.00000000037 * Math.cos(0.01420012860 + 47964.337285759 * t);
-        X0 += 0.00000000034 * Math.cos(3.47970683246 + 37703.9780242558 * t);
-        X0 += 0.00000000031 * Math.cos(5.46651444566 + 39786.646707654 * t);
-        X0 += 0.00000000028 * Math.cos(3.65950618561 + 73872.1632970486 * t);
-        X0 += 0.00000000028 * Math.cos(1.94950811352 + 28528.2063252554 * t);
-        X0 += 0.00000000037 * Math.cos(3.33141664712 + 68390.90837818099 * t);
-        X0 += 0.00000000028 * Math.cos(0.41915165036 + 15694.5404650786 * t);
-        X0 += 0.00000000034 * Math.cos(3.67871414535 + 40213.24489853 * t);
-        X0 += 0.00000000031 * Math.cos(4.76909835895 + 106570.36967048359 * t);
-        X0 += 0.00000000031 * Math.cos(0.95396015997 + 27682.1407441564 * t);
-        X0 += 0.00000000037 * Math.cos(2.63889593800 + 13859.6359235654 * t);
-        X0 += 0.00000000028 * Math.cos(1.92419873752 + 7886.717712239 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 338 terms of order 1
-    {
-        double X1 = 0;
-        X1 -= 0.00033862636;
-        X1 += 0.00017234992 * Math.cos(0.92721124604 + 20426.571092422 * t);
-        X1 += 0.00006510416 * Math.cos(2.19289889733 + 10213.285546211 * t);
-        X1 += 0.00000175153 * Math.cos(1.80662375856 + 30639.856638633 * t);
-        X1 += 0.00000060308 * Math.cos(4.92818504243 + 8635.9420037632 * t);
-        X1 += 0.00000062875 * Math.cos(2.09139376733 + 10186.9872264112 * t);
-        X1 += 0.00000062673 * Math.cos(1.11931770829 + 10239.5838660108 * t);
-        X1 += 0.00000049288 * Math.cos(4.57672399872 + 11790.6290886588 * t);
-        X1 += 0.00000036778 * Math.cos(2.06851242251 + 775.522611324 * t);
-        X1 += 0.00000030106 * Math.cos(5.32720335267 + 10021.8372800994 * t);
-        X1 += 0.00000029274 * Math.cos(4.16540644255 + 10404.7338123226 * t);
-        X1 += 0.00000019967 * Math.cos(1.16604774963 + 9437.762934887 * t);
-        X1 += 0.00000017823 * Math.cos(2.07836542600 + 10988.808157535 * t);
-        X1 += 0.00000013944 * Math.cos(3.69080302800 + 9683.5945811164 * t);
-        X1 += 0.00000013302 * Math.cos(1.34684482109 + 191.4482661116 * t);
-        X1 += 0.00000013514 * Math.cos(5.77326513156 + 10742.9765113056 * t);
-        X1 += 0.00000014023 * Math.cos(3.49827896956 + 4705.7323075436 * t);
-        X1 += 0.00000013305 * Math.cos(1.15252179423 + 19651.048481098 * t);
-        X1 += 0.00000006878 * Math.cos(4.83643789894 + 9103.9069941176 * t);
-        X1 += 0.00000007518 * Math.cos(5.57355256300 + 1059.3819301892 * t);
-        X1 += 0.00000007314 * Math.cos(6.00715030461 + 15720.8387848784 * t);
-        X1 += 0.00000005893 * Math.cos(4.65079788415 + 11322.6640983044 * t);
-        X1 += 0.00000005966 * Math.cos(2.10338851243 + 10206.1719992102 * t);
-        X1 += 0.00000005966 * Math.cos(1.10731222776 + 10220.3990932118 * t);
-        X1 += 0.00000005146 * Math.cos(2.49797078266 + 3154.6870848956 * t);
-        X1 += 0.00000004570 * Math.cos(4.59128591402 + 20618.0193585336 * t);
-        X1 += 0.00000004253 * Math.cos(6.04441888042 + 9999.986450773 * t);
-        X1 += 0.00000004157 * Math.cos(3.43980473612 + 10426.584641649 * t);
-        X1 += 0.00000004649 * Math.cos(2.86570782502 + 9830.3890139878 * t);
-        X1 += 0.00000004457 * Math.cos(0.35149067415 + 10596.1820784342 * t);
-        X1 += 0.00000003831 * Math.cos(0.32591122929 + 7.1135470008 * t);
-        X1 += 0.00000003220 * Math.cos(2.31596557655 + 7860.4193924392 * t);
-        X1 += 0.00000002790 * Math.cos(3.91140503058 + 19367.1891622328 * t);
-        X1 += 0.00000002701 * Math.cos(0.65622385382 + 7058.5984613154 * t);
-        X1 += 0.00000002426 * Math.cos(5.63707111420 + 8624.2126509272 * t);
-        X1 += 0.00000002228 * Math.cos(3.80476415463 + 11015.1064773348 * t);
-        X1 += 0.00000002742 * Math.cos(4.97112619529 + 801.8209311238 * t);
-        X1 += 0.00000002539 * Math.cos(5.96953643859 + 9411.4646150872 * t);
-        X1 += 0.00000001733 * Math.cos(3.35882285196 + 1109.3785520934 * t);
-        X1 += 0.00000001820 * Math.cos(2.53309413889 + 13367.9726311066 * t);
-        X1 += 0.00000001586 * Math.cos(2.69305924778 + 40853.142184844 * t);
-        X1 += 0.00000002007 * Math.cos(2.52717557705 + 26.2983197998 * t);
-        X1 += 0.00000001740 * Math.cos(2.26366858618 + 4551.9534970588 * t);
-        X1 += 0.00000001695 * Math.cos(4.86384593057 + 3930.2096962196 * t);
-        X1 += 0.00000001491 * Math.cos(0.63663352937 + 12566.1516999828 * t);
-        X1 += 0.00000001400 * Math.cos(6.24739539057 + 11272.6674764002 * t);
-        X1 += 0.00000001282 * Math.cos(4.66310117053 + 10218.8084705184 * t);
-        X1 += 0.00000001282 * Math.cos(4.83078487684 + 10207.7626219036 * t);
-        X1 += 0.00000001424 * Math.cos(3.84877764517 + 7084.8967811152 * t);
-        X1 += 0.00000001480 * Math.cos(5.68175195919 + 3128.3887650958 * t);
-        X1 += 0.00000001352 * Math.cos(2.86394052328 + 20419.45754542119 * t);
-        X1 += 0.00000001331 * Math.cos(5.67740813364 + 23581.2581773176 * t);
-        X1 += 0.00000001165 * Math.cos(1.86912148528 + 1577.3435424478 * t);
-        X1 += 0.00000001217 * Math.cos(3.13914848069 + 9153.9036160218 * t);
-        X1 += 0.00000001283 * Math.cos(3.88489184697 + 382.8965322232 * t);
-        X1 += 0.00000001084 * Math.cos(4.35524384671 + 10198.033075026 * t);
-        X1 += 0.00000001084 * Math.cos(5.13864220066 + 10228.538017396 * t);
-        X1 += 0.00000000935 * Math.cos(2.69155510108 + 2352.8661537718 * t);
-        X1 += 0.00000001204 * Math.cos(4.96311045584 + 16496.3613962024 * t);
-        X1 += 0.00000001110 * Math.cos(0.28360276400 + 1589.0728952838 * t);
-        X1 += 0.00000000927 * Math.cos(0.95159471682 + 15874.6175953632 * t);
-        X1 += 0.00000000745 * Math.cos(2.15244210116 + 3149.1641605882 * t);
-        X1 += 0.00000000727 * Math.cos(0.71047310572 + 28286.9904848612 * t);
-        X1 += 0.00000000800 * Math.cos(5.11147158475 + 426.598190876 * t);
-        X1 += 0.00000000629 * Math.cos(4.09794953076 + 6283.0758499914 * t);
-        X1 += 0.00000000625 * Math.cos(3.18531726606 + 20400.2727726222 * t);
-        X1 += 0.00000000613 * Math.cos(0.22192928894 + 21535.9496445154 * t);
-        X1 += 0.00000000844 * Math.cos(1.91525540918 + 21228.3920235458 * t);
-        X1 += 0.00000000647 * Math.cos(1.91404418261 + 536.8045120954 * t);
-        X1 += 0.00000000673 * Math.cos(5.27601179416 + 8094.5216858326 * t);
-        X1 += 0.00000000635 * Math.cos(0.24814486022 + 18849.2275499742 * t);
-        X1 += 0.00000000659 * Math.cos(3.85074823650 + 17298.1823273262 * t);
-        X1 += 0.00000000558 * Math.cos(2.17212279619 + 5661.3320491522 * t);
-        X1 += 0.00000000617 * Math.cos(2.40257223116 + 522.5774180938 * t);
-        X1 += 0.00000000504 * Math.cos(0.50752256282 + 20452.8694122218 * t);
-        X1 += 0.00000000471 * Math.cos(5.08849959119 + 32217.2001810808 * t);
-        X1 += 0.00000000569 * Math.cos(2.27089991313 + 529.6909650946 * t);
-        X1 += 0.00000000449 * Math.cos(3.23050669378 + 9161.0171630226 * t);
-        X1 += 0.00000000406 * Math.cos(5.47199309176 + 24356.7807886416 * t);
-        X1 += 0.00000000421 * Math.cos(2.57695843451 + 29050.7837433492 * t);
-        X1 += 0.00000000416 * Math.cos(4.91711862645 + 6681.2248533996 * t);
-        X1 += 0.00000000433 * Math.cos(3.74326536161 + 9146.790069021 * t);
-        X1 += 0.00000000432 * Math.cos(0.83861429466 + 20809.4676246452 * t);
-        X1 += 0.00000000368 * Math.cos(0.50948592294 + 9786.687355335 * t);
-        X1 += 0.00000000364 * Math.cos(2.71580018519 + 10639.883737087 * t);
-        X1 += 0.00000000440 * Math.cos(0.73691128332 + 10735.8629643048 * t);
-        X1 += 0.00000000442 * Math.cos(2.47960767723 + 9690.7081281172 * t);
-        X1 += 0.00000000372 * Math.cos(0.50265145827 + 10251.3132188468 * t);
-        X1 += 0.00000000372 * Math.cos(2.70804928192 + 10175.2578735752 * t);
-        X1 += 0.00000000417 * Math.cos(5.95567969898 + 22003.9146348698 * t);
-        X1 += 0.00000000319 * Math.cos(1.05799141125 + 17277.4069318338 * t);
-        X1 += 0.00000000430 * Math.cos(2.94467829658 + 18837.49819713819 * t);
-        X1 += 0.00000000305 * Math.cos(1.07705608500 + 14765.2390432698 * t);
-        X1 += 0.00000000299 * Math.cos(1.17049327210 + 9573.388259897 * t);
-        X1 += 0.00000000351 * Math.cos(2.50782509682 + 6489.776587288 * t);
-        X1 += 0.00000000297 * Math.cos(1.06831804424 + 10232.95530711079 * t);
-        X1 += 0.00000000297 * Math.cos(2.14238269595 + 10193.61578531121 * t);
-        X1 += 0.00000000283 * Math.cos(1.43375599031 + 9676.4810341156 * t);
-        X1 += 0.00000000282 * Math.cos(2.35469083120 + 3442.5749449654 * t);
-        X1 += 0.00000000262 * Math.cos(3.22424298845 + 21202.093703746 * t);
-        X1 += 0.00000000280 * Math.cos(4.54909343150 + 13745.3462390224 * t);
-        X1 += 0.00000000303 * Math.cos(0.76647154703 + 27511.4678735372 * t);
-        X1 += 0.00000000265 * Math.cos(5.63411986393 + 22779.4372461938 * t);
-        X1 += 0.00000000289 * Math.cos(5.78612488740 + 20235.1228263104 * t);
-        X1 += 0.00000000280 * Math.cos(5.08975182162 + 14919.0178537546 * t);
-        X1 += 0.00000000262 * Math.cos(1.80492967584 + 10750.0900583064 * t);
-        X1 += 0.00000000256 * Math.cos(4.41502652709 + 10234.0609417034 * t);
-        X1 += 0.00000000256 * Math.cos(5.07885952028 + 10192.5101507186 * t);
-        X1 += 0.00000000281 * Math.cos(6.24023878472 + 4732.0306273434 * t);
-        X1 += 0.00000000273 * Math.cos(4.38798616028 + 19999.97290154599 * t);
-        X1 += 0.00000000231 * Math.cos(4.24584068448 + 3723.508958923 * t);
-        X1 += 0.00000000285 * Math.cos(5.52678721077 + 20956.2620575166 * t);
-        X1 += 0.00000000248 * Math.cos(0.80860047227 + 13936.794505134 * t);
-        X1 += 0.00000000303 * Math.cos(0.16166252665 + 14945.3161735544 * t);
-        X1 += 0.00000000229 * Math.cos(2.00393082027 + 18307.8072320436 * t);
-        X1 += 0.00000000232 * Math.cos(1.29928665498 + 19889.76658032659 * t);
-        X1 += 0.00000000199 * Math.cos(0.33116594460 + 9638.9407478762 * t);
-        X1 += 0.00000000218 * Math.cos(0.81835340957 + 19903.99367432819 * t);
-        X1 += 0.00000000236 * Math.cos(3.29779198483 + 1551.045222648 * t);
-        X1 += 0.00000000182 * Math.cos(4.19683782346 + 6872.6731195112 * t);
-        X1 += 0.00000000179 * Math.cos(0.13299783559 + 30110.1656735384 * t);
-        X1 += 0.00000000183 * Math.cos(2.86361582264 + 10787.6303445458 * t);
-        X1 += 0.00000000235 * Math.cos(2.81697648619 + 1066.49547719 * t);
-        X1 += 0.00000000208 * Math.cos(5.61842788521 + 10007.0999977738 * t);
-        X1 += 0.00000000208 * Math.cos(3.87545816216 + 10419.4710946482 * t);
-        X1 += 0.00000000184 * Math.cos(1.66108291395 + 9967.4538999816 * t);
-        X1 += 0.00000000157 * Math.cos(4.86147676477 + 5507.5532386674 * t);
-        X1 += 0.00000000163 * Math.cos(4.95974146969 + 10225.014899047 * t);
-        X1 += 0.00000000163 * Math.cos(4.53414457768 + 10201.556193375 * t);
-        X1 += 0.00000000156 * Math.cos(6.06699266861 + 10316.3783204296 * t);
-        X1 += 0.00000000156 * Math.cos(3.42689337876 + 10110.1927719924 * t);
-        X1 += 0.00000000178 * Math.cos(1.54946213545 + 10459.1171924404 * t);
-        X1 += 0.00000000163 * Math.cos(3.33666234638 + 8617.0991039264 * t);
-        X1 += 0.00000000157 * Math.cos(5.15568499427 + 13553.8979729108 * t);
-        X1 += 0.00000000152 * Math.cos(5.19090463479 + 639.897286314 * t);
-        X1 += 0.00000000153 * Math.cos(4.56991285435 + 7064.1213856228 * t);
-        X1 += 0.00000000140 * Math.cos(3.74168278014 + 8631.326197928 * t);
-        X1 += 0.00000000162 * Math.cos(1.41066050496 + 18875.525869774 * t);
-        X1 += 0.00000000177 * Math.cos(4.60803620012 + 5481.2549188676 * t);
-        X1 += 0.00000000128 * Math.cos(5.46982761491 + 10632.7701900862 * t);
-        X1 += 0.00000000154 * Math.cos(0.98203597063 + 2118.7638603784 * t);
-        X1 += 0.00000000122 * Math.cos(3.52963783211 + 22805.7355659936 * t);
-        X1 += 0.00000000131 * Math.cos(2.25810592292 + 31441.6775697568 * t);
-        X1 += 0.00000000151 * Math.cos(2.51506129756 + 29864.334027309 * t);
-        X1 += 0.00000000143 * Math.cos(4.89084173973 + 7994.5284420242 * t);
-        X1 += 0.00000000128 * Math.cos(4.83324965266 + 14143.4952424306 * t);
-        X1 += 0.00000000119 * Math.cos(2.18817672539 + 28521.0927782546 * t);
-        X1 += 0.00000000126 * Math.cos(4.45567569879 + 9793.8009023358 * t);
-        X1 += 0.00000000133 * Math.cos(4.66569043351 + 12432.0426503978 * t);
-        X1 += 0.00000000099 * Math.cos(2.30761648841 + 20.7753954924 * t);
-        X1 += 0.00000000104 * Math.cos(6.17531547106 + 36147.4098773004 * t);
-        X1 += 0.00000000101 * Math.cos(3.14541381584 + 1052.2683831884 * t);
-        X1 += 0.00000000093 * Math.cos(0.14711850987 + 574.3447983348 * t);
-        X1 += 0.00000000129 * Math.cos(4.90463216286 + 7564.830720738 * t);
-        X1 += 0.00000000092 * Math.cos(1.92693800199 + 9360.089164459 * t);
-        X1 += 0.00000000105 * Math.cos(0.69367524807 + 16983.9961474566 * t);
-        X1 += 0.00000000095 * Math.cos(3.66782801204 + 10433.6981886498 * t);
-        X1 += 0.00000000095 * Math.cos(5.82605803532 + 9992.8729037722 * t);
-        X1 += 0.00000000096 * Math.cos(5.33118576681 + 220.4126424388 * t);
-        X1 += 0.00000000081 * Math.cos(0.17273168667 + 19896.8801273274 * t);
-        X1 += 0.00000000110 * Math.cos(0.30263518591 + 11802.3584414948 * t);
-        X1 += 0.00000000108 * Math.cos(5.13400660338 + 29580.4747084438 * t);
-        X1 += 0.00000000093 * Math.cos(5.89270070063 + 2957.7158944766 * t);
-        X1 += 0.00000000094 * Math.cos(1.47978763830 + 20433.6846394228 * t);
-        X1 += 0.00000000084 * Math.cos(3.01528050439 + 25158.6017197654 * t);
-        X1 += 0.00000000092 * Math.cos(5.73596317172 + 206.1855484372 * t);
-        X1 += 0.00000000077 * Math.cos(4.50520624769 + 10177.2576795336 * t);
-        X1 += 0.00000000077 * Math.cos(4.98867979968 + 10249.3134128884 * t);
-        X1 += 0.00000000088 * Math.cos(1.15956894470 + 2379.1644735716 * t);
-        X1 += 0.00000000076 * Math.cos(2.94238842779 + 213.299095438 * t);
-        X1 += 0.00000000071 * Math.cos(1.17266418386 + 24150.080051345 * t);
-        X1 += 0.00000000071 * Math.cos(0.26608127921 + 29043.67019634839 * t);
-        X1 += 0.00000000091 * Math.cos(0.45051499731 + 19360.07561523199 * t);
-        X1 += 0.00000000068 * Math.cos(3.96046123295 + 10383.9584168302 * t);
-        X1 += 0.00000000068 * Math.cos(5.53342481442 + 10042.6126755918 * t);
-        X1 += 0.00000000077 * Math.cos(0.65927841966 + 29573.361161443 * t);
-        X1 += 0.00000000069 * Math.cos(4.86964064866 + 26735.9452622132 * t);
-        X1 += 0.00000000073 * Math.cos(0.21800067624 + 29587.5882554446 * t);
-        X1 += 0.00000000065 * Math.cos(5.46497273946 + 39302.096962196 * t);
-        X1 += 0.00000000066 * Math.cos(3.87839547247 + 3532.0606928114 * t);
-        X1 += 0.00000000061 * Math.cos(0.66096812913 + 29057.89729034999 * t);
-        X1 += 0.00000000081 * Math.cos(4.74585575332 + 11764.330768859 * t);
-        X1 += 0.00000000067 * Math.cos(1.15918883443 + 40077.61957352 * t);
-        X1 += 0.00000000077 * Math.cos(0.71010883429 + 20213.271996984 * t);
-        X1 += 0.00000000077 * Math.cos(3.31402395838 + 7834.1210726394 * t);
-        X1 += 0.00000000067 * Math.cos(1.57099488677 + 17778.11626694899 * t);
-        X1 += 0.00000000057 * Math.cos(1.40415259234 + 110.2063212194 * t);
-        X1 += 0.00000000060 * Math.cos(6.21424049877 + 30831.3049047446 * t);
-        X1 += 0.00000000055 * Math.cos(1.10439423420 + 6770.7106012456 * t);
-        X1 += 0.00000000054 * Math.cos(4.90109549879 + 19317.1925403286 * t);
-        X1 += 0.00000000055 * Math.cos(1.55888979134 + 27490.6924780448 * t);
-        X1 += 0.00000000060 * Math.cos(0.10100099885 + 9779.5738083342 * t);
-        X1 += 0.00000000059 * Math.cos(3.60960317836 + 35371.8872659764 * t);
-        X1 += 0.00000000050 * Math.cos(1.75539922827 + 10103.0792249916 * t);
-        X1 += 0.00000000050 * Math.cos(1.45530151192 + 10323.4918674304 * t);
-        X1 += 0.00000000050 * Math.cos(6.20989838059 + 39793.7602546548 * t);
-        X1 += 0.00000000052 * Math.cos(0.61784659161 + 26709.6469424134 * t);
-        X1 += 0.00000000050 * Math.cos(3.88430063812 + 16522.6597160022 * t);
-        X1 += 0.00000000048 * Math.cos(3.03978445690 + 27197.2816936676 * t);
-        X1 += 0.00000000047 * Math.cos(3.62423252693 + 20639.87018786 * t);
-        X1 += 0.00000000046 * Math.cos(4.31718940500 + 19786.67380610799 * t);
-        X1 += 0.00000000045 * Math.cos(4.37583121590 + 29999.959352319 * t);
-        X1 += 0.00000000047 * Math.cos(2.61829720304 + 57837.1383323006 * t);
-        X1 += 0.00000000045 * Math.cos(0.64539022706 + 43232.3066584156 * t);
-        X1 += 0.00000000055 * Math.cos(3.28045715106 + 2218.7571041868 * t);
-        X1 += 0.00000000043 * Math.cos(5.13872092014 + 29786.660256881 * t);
-        X1 += 0.00000000046 * Math.cos(4.36312032216 + 29088.811415985 * t);
-        X1 += 0.00000000051 * Math.cos(2.50513032627 + 44007.8292697396 * t);
-        X1 += 0.00000000045 * Math.cos(0.02215975970 + 30666.1549584328 * t);
-        X1 += 0.00000000056 * Math.cos(3.87309891223 + 17468.8551979454 * t);
-        X1 += 0.00000000054 * Math.cos(0.93200345594 + 25934.1243310894 * t);
-        X1 += 0.00000000051 * Math.cos(1.29476626427 + 13341.6743113068 * t);
-        X1 += 0.00000000051 * Math.cos(1.12825933915 + 13655.8604911764 * t);
-        X1 += 0.00000000039 * Math.cos(5.77845089286 + 20447.3464879144 * t);
-        X1 += 0.00000000038 * Math.cos(3.46632011895 + 21000.9158907568 * t);
-        X1 += 0.00000000038 * Math.cos(5.73479924178 + 33019.0211122046 * t);
-        X1 += 0.00000000042 * Math.cos(0.50159500441 + 3914.9572250346 * t);
-        X1 += 0.00000000042 * Math.cos(4.77757016347 + 38204.687359371 * t);
-        X1 += 0.00000000041 * Math.cos(0.07265138638 + 18830.38465013739 * t);
-        X1 += 0.00000000036 * Math.cos(5.95301096335 + 10077.660221201 * t);
-        X1 += 0.00000000036 * Math.cos(3.54087508402 + 10348.910871221 * t);
-        X1 += 0.00000000047 * Math.cos(6.22385797527 + 8662.240323563 * t);
-        X1 += 0.00000000040 * Math.cos(5.87480727345 + 18844.61174413899 * t);
-        X1 += 0.00000000040 * Math.cos(3.88666957401 + 47938.0389659592 * t);
-        X1 += 0.00000000036 * Math.cos(1.01249884206 + 33794.5437235286 * t);
-        X1 += 0.00000000032 * Math.cos(5.49940747482 + 16894.5103996106 * t);
-        X1 += 0.00000000034 * Math.cos(0.08271536061 + 19374.3027092336 * t);
-        X1 += 0.00000000032 * Math.cos(1.98563978946 + 47162.5163546352 * t);
-        X1 += 0.00000000042 * Math.cos(0.37006972783 + 55798.4583583984 * t);
-        X1 += 0.00000000031 * Math.cos(3.51648880247 + 20043.6745601988 * t);
-        X1 += 0.00000000033 * Math.cos(1.44340083609 + 48417.97290558199 * t);
-        X1 += 0.00000000034 * Math.cos(5.27191255343 + 54247.4131357504 * t);
-        X1 += 0.00000000032 * Math.cos(2.12080485438 + 10191.4347168846 * t);
-        X1 += 0.00000000032 * Math.cos(1.08989588582 + 10235.1363755374 * t);
-        X1 += 0.00000000038 * Math.cos(0.78775617354 + 7255.5696517344 * t);
-        X1 += 0.00000000031 * Math.cos(2.88646250826 + 8087.4081388318 * t);
-        X1 += 0.00000000030 * Math.cos(1.96661961760 + 10853.182832525 * t);
-        X1 += 0.00000000030 * Math.cos(0.79959461257 + 36949.2308084242 * t);
-        X1 += 0.00000000033 * Math.cos(1.13583992722 + 12592.4500197826 * t);
-        X1 += 0.00000000029 * Math.cos(5.21162982204 + 10290.959316639 * t);
-        X1 += 0.00000000029 * Math.cos(4.28225622533 + 10135.611775783 * t);
-        X1 += 0.00000000028 * Math.cos(5.74069736147 + 104351.61256629678 * t);
-        X1 += 0.00000000032 * Math.cos(4.16582591800 + 20206.15844998319 * t);
-        X1 += 0.00000000029 * Math.cos(1.47368482939 + 34596.3646546524 * t);
-        X1 += 0.00000000032 * Math.cos(5.37255836333 + 9835.9119382952 * t);
-        X1 += 0.00000000032 * Math.cos(4.12132768404 + 10590.6591541268 * t);
-        X1 += 0.00000000027 * Math.cos(6.25293404514 + 6298.3283211764 * t);
-        X1 += 0.00000000035 * Math.cos(5.35069959846 + 9985.809413422 * t);
-        X1 += 0.00000000035 * Math.cos(4.14318644891 + 10440.76167900 * t);
-        X1 += 0.00000000028 * Math.cos(4.67032066017 + 55022.9357470744 * t);
-        X1 += 0.00000000033 * Math.cos(1.09348944613 + 27461.7108480654 * t);
-        X1 += 0.00000000026 * Math.cos(4.77604676579 + 34363.365597556 * t);
-        X1 += 0.00000000032 * Math.cos(1.06669637529 + 11265.5539293994 * t);
-        X1 += 0.00000000029 * Math.cos(3.31180384238 + 30206.14490075619 * t);
-        X1 += 0.00000000032 * Math.cos(5.28519921901 + 51868.2486621788 * t);
-        X1 += 0.00000000033 * Math.cos(1.79088538074 + 59728.668054618 * t);
-        X1 += 0.00000000029 * Math.cos(3.70229059266 + 20220.3855439848 * t);
-        X1 += 0.00000000024 * Math.cos(5.85539151209 + 8734.4189721466 * t);
-        X1 += 0.00000000024 * Math.cos(1.21351947969 + 36173.7081971002 * t);
-        X1 += 0.00000000024 * Math.cos(4.42282986398 + 31022.7531708562 * t);
-        X1 += 0.00000000024 * Math.cos(2.16102096842 + 40879.4405046438 * t);
-        X1 += 0.00000000027 * Math.cos(2.40070719103 + 37724.7534197482 * t);
-        X1 += 0.00000000027 * Math.cos(2.82758334354 + 30220.3719947578 * t);
-        X1 += 0.00000000023 * Math.cos(0.26922480404 + 24383.0791084414 * t);
-        X1 += 0.00000000023 * Math.cos(3.40993702222 + 51092.7260508548 * t);
-        X1 += 0.00000000023 * Math.cos(2.71148449796 + 10367.0643566958 * t);
-        X1 += 0.00000000023 * Math.cos(0.49921624223 + 10059.5067357262 * t);
-        X1 += 0.00000000029 * Math.cos(2.93595097785 + 26087.9031415742 * t);
-        X1 += 0.00000000026 * Math.cos(2.79749713332 + 39271.182836561 * t);
-        X1 += 0.00000000026 * Math.cos(3.27997889051 + 39256.95574255939 * t);
-        X1 += 0.00000000025 * Math.cos(5.61288176999 + 46386.9937433112 * t);
-        X1 += 0.00000000023 * Math.cos(3.93905950844 + 49515.382508407 * t);
-        X1 += 0.00000000026 * Math.cos(3.68291120913 + 8101.6352328334 * t);
-        X1 += 0.00000000022 * Math.cos(2.92851543538 + 24978.5245894808 * t);
-        X1 += 0.00000000030 * Math.cos(4.35689646676 + 17248.4253018544 * t);
-        X1 += 0.00000000022 * Math.cos(0.61619120317 + 22645.32819660879 * t);
-        X1 += 0.00000000022 * Math.cos(1.75420132293 + 30426.557543195 * t);
-        X1 += 0.00000000022 * Math.cos(2.56035448587 + 66813.5648357332 * t);
-        X1 += 0.00000000022 * Math.cos(0.93565021177 + 9566.2747128962 * t);
-        X1 += 0.00000000023 * Math.cos(2.47790916174 + 6309.3741697912 * t);
-        X1 += 0.00000000021 * Math.cos(2.05775290145 + 10949.1620597428 * t);
-        X1 += 0.00000000021 * Math.cos(1.15294783874 + 9477.4090326792 * t);
-        X1 += 0.00000000028 * Math.cos(0.54837105379 + 9580.5018068978 * t);
-        X1 += 0.00000000024 * Math.cos(0.56697771725 + 10288.0671447783 * t);
-        X1 += 0.00000000024 * Math.cos(2.64372302294 + 10138.5039476437 * t);
-        X1 += 0.00000000020 * Math.cos(2.21258610934 + 11279.781023401 * t);
-        X1 += 0.00000000020 * Math.cos(3.68816505309 + 18073.7049386502 * t);
-        X1 += 0.00000000021 * Math.cos(6.08866841317 + 58953.145443294 * t);
-        X1 += 0.00000000023 * Math.cos(5.24359027210 + 45585.1728121874 * t);
-        X1 += 0.00000000023 * Math.cos(2.67526294292 + 10263.0425716828 * t);
-        X1 += 0.00000000023 * Math.cos(0.53543779727 + 10163.5285207392 * t);
-        X1 += 0.00000000027 * Math.cos(3.93215204936 + 24341.5283174566 * t);
-        X1 += 0.00000000021 * Math.cos(5.90887195268 + 18300.69368504279 * t);
-        X1 += 0.00000000026 * Math.cos(3.21325564576 + 63658.8777508376 * t);
-        X1 += 0.00000000023 * Math.cos(5.86841686095 + 52175.8062831484 * t);
-        X1 += 0.00000000019 * Math.cos(1.80883011026 + 20316.36477120259 * t);
-        X1 += 0.00000000020 * Math.cos(2.90910269310 + 38526.574350872 * t);
-        X1 += 0.00000000019 * Math.cos(3.53288056554 + 44809.6502008634 * t);
-        X1 += 0.00000000020 * Math.cos(0.92201968088 + 62081.5342083898 * t);
-        X1 += 0.00000000020 * Math.cos(4.23941240591 + 42456.7840470916 * t);
-        X1 += 0.00000000020 * Math.cos(2.70819091080 + 49477.35483577119 * t);
-        X1 += 0.00000000019 * Math.cos(6.01601338494 + 28513.97923125379 * t);
-        X1 += 0.00000000018 * Math.cos(5.40437078778 + 9050.8108418032 * t);
-        X1 += 0.00000000019 * Math.cos(0.08422406558 + 47623.8527860896 * t);
-        X1 += 0.00000000017 * Math.cos(4.46941749243 + 10497.1448650762 * t);
-        X1 += 0.00000000017 * Math.cos(5.02446855494 + 9929.4262273458 * t);
-        X1 += 0.00000000017 * Math.cos(1.63590437693 + 28313.288804661 * t);
-        X1 += 0.00000000018 * Math.cos(4.34354168525 + 27682.1407441564 * t);
-        X1 += 0.00000000017 * Math.cos(0.77261247444 + 19624.7501612982 * t);
-        X1 += 0.00000000020 * Math.cos(1.53858484384 + 43071.8992890308 * t);
-        X1 += 0.00000000017 * Math.cos(6.13245058546 + 18314.9207790444 * t);
-        X1 += 0.00000000018 * Math.cos(0.75283830224 + 50317.2034395308 * t);
-        X1 += 0.00000000018 * Math.cos(0.02898286217 + 42430.4857272918 * t);
-        X1 += 0.00000000016 * Math.cos(5.43519924864 + 9745.3205558566 * t);
-        X1 += 0.00000000016 * Math.cos(4.05868679873 + 10681.2505365654 * t);
-        X1 += 0.00000000016 * Math.cos(4.40841499018 + 41654.9631159678 * t);
-        X1 += 0.00000000015 * Math.cos(5.40287159543 + 10199.0584522094 * t);
-        X1 += 0.00000000015 * Math.cos(4.09101445194 + 10227.5126402126 * t);
-        X1 += 0.00000000017 * Math.cos(3.98136429313 + 70743.77453195279 * t);
-        X1 += 0.00000000015 * Math.cos(4.91286509923 + 48739.859897083 * t);
-        X1 += 0.00000000015 * Math.cos(4.83495777746 + 38734.3783244656 * t);
-        X1 += 0.00000000015 * Math.cos(1.22362311631 + 62883.3551395136 * t);
-        X1 += 0.00000000015 * Math.cos(2.70406994167 + 53285.1848352418 * t);
-        X1 += 0.00000000015 * Math.cos(2.34568905276 + 66011.74390460939 * t);
-        X1 += 0.00000000015 * Math.cos(2.83729246953 + 38727.2647774648 * t);
-        X1 += 0.00000000015 * Math.cos(1.51873359040 + 46360.6954235114 * t);
-        X1 += 0.00000000019 * Math.cos(4.60380196538 + 67589.08744705719 * t);
-        X1 += 0.00000000014 * Math.cos(0.37440982130 + 39999.945803092 * t);
-        X1 += 0.00000000014 * Math.cos(1.52734358006 + 11026.8358301708 * t);
-        X1 += 0.00000000014 * Math.cos(1.68335716013 + 9399.7352622512 * t);
-        X1 += 0.00000000014 * Math.cos(0.04043838791 + 28528.2063252554 * t);
-        X1 += 0.00000000014 * Math.cos(1.39515112241 + 37895.4262903674 * t);
-        X1 += 0.00000000014 * Math.cos(1.44889652645 + 37410.5672398786 * t);
-        X1 += 0.00000000014 * Math.cos(2.77974606905 + 14128.2427712456 * t);
-        X1 += 0.00000000014 * Math.cos(2.94217443085 + 50290.905119731 * t);
-        X1 += 0.00000000015 * Math.cos(6.22361957178 + 21485.95302261119 * t);
-        X1 += 0.00000000013 * Math.cos(6.14132798035 + 52670.0695933026 * t);
-        X1 += 0.00000000015 * Math.cos(3.18753797236 + 27991.40181316 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 99 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00000704794 * Math.cos(5.09874399916 + 20426.571092422 * t);
-        X2 += 0.00000624477 * Math.cos(3.86836776757 + 10213.285546211 * t);
-        X2 -= 0.00000649010;
-        X2 += 0.00000011644 * Math.cos(5.50982814990 + 30639.856638633 * t);
-        X2 += 0.00000008620 * Math.cos(2.69988723020 + 10186.9872264112 * t);
-        X2 += 0.00000008590 * Math.cos(0.50870967404 + 10239.5838660108 * t);
-        X2 += 0.00000003815 * Math.cos(0.77119888833 + 9437.762934887 * t);
-        X2 += 0.00000002806 * Math.cos(3.22770970899 + 8635.9420037632 * t);
-        X2 += 0.00000003408 * Math.cos(2.43107046634 + 10988.808157535 * t);
-        X2 += 0.00000002200 * Math.cos(3.74779356664 + 10021.8372800994 * t);
-        X2 += 0.00000002279 * Math.cos(6.27047209584 + 11790.6290886588 * t);
-        X2 += 0.00000002142 * Math.cos(5.74529785137 + 10404.7338123226 * t);
-        X2 += 0.00000001697 * Math.cos(0.37726443109 + 775.522611324 * t);
-        X2 += 0.00000000716 * Math.cos(1.35432613135 + 9830.3890139878 * t);
-        X2 += 0.00000000645 * Math.cos(1.80158579035 + 4705.7323075436 * t);
-        X2 += 0.00000000682 * Math.cos(1.85637661737 + 10596.1820784342 * t);
-        X2 += 0.00000000594 * Math.cos(2.81614157236 + 19651.048481098 * t);
-        X2 += 0.00000000527 * Math.cos(4.51723747327 + 10742.9765113056 * t);
-        X2 += 0.00000000527 * Math.cos(4.96386147132 + 9683.5945811164 * t);
-        X2 += 0.00000000532 * Math.cos(2.93260463288 + 191.4482661116 * t);
-        X2 += 0.00000000570 * Math.cos(5.05711649193 + 801.8209311238 * t);
-        X2 += 0.00000000526 * Math.cos(1.01160968834 + 7058.5984613154 * t);
-        X2 += 0.00000000329 * Math.cos(1.41548628066 + 15720.8387848784 * t);
-        X2 += 0.00000000286 * Math.cos(3.25503239085 + 9103.9069941176 * t);
-        X2 += 0.00000000362 * Math.cos(5.91786685439 + 9411.4646150872 * t);
-        X2 += 0.00000000301 * Math.cos(2.27011866705 + 26.2983197998 * t);
-        X2 += 0.00000000359 * Math.cos(2.19075630034 + 13367.9726311066 * t);
-        X2 += 0.00000000250 * Math.cos(6.23903308413 + 11322.6640983044 * t);
-        X2 += 0.00000000298 * Math.cos(3.54353073631 + 11015.1064773348 * t);
-        X2 += 0.00000000239 * Math.cos(4.19538799331 + 3154.6870848956 * t);
-        X2 += 0.00000000302 * Math.cos(5.83564279638 + 3128.3887650958 * t);
-        X2 += 0.00000000191 * Math.cos(3.61200654986 + 1059.3819301892 * t);
-        X2 += 0.00000000190 * Math.cos(1.78329501671 + 10426.584641649 * t);
-        X2 += 0.00000000190 * Math.cos(1.42740572348 + 9999.986450773 * t);
-        X2 += 0.00000000187 * Math.cos(0.38219508219 + 1577.3435424478 * t);
-        X2 += 0.00000000192 * Math.cos(6.19395381253 + 20618.0193585336 * t);
-        X2 += 0.00000000146 * Math.cos(4.41425613950 + 2352.8661537718 * t);
-        X2 += 0.00000000179 * Math.cos(1.99989531828 + 21228.3920235458 * t);
-        X2 += 0.00000000156 * Math.cos(6.20080955726 + 40853.142184844 * t);
-        X2 += 0.00000000158 * Math.cos(5.43294450699 + 382.8965322232 * t);
-        X2 += 0.00000000161 * Math.cos(4.51005276896 + 7860.4193924392 * t);
-        X2 += 0.00000000125 * Math.cos(2.64197102629 + 18849.2275499742 * t);
-        X2 += 0.00000000132 * Math.cos(0.16898152725 + 3930.2096962196 * t);
-        X2 += 0.00000000110 * Math.cos(0.59245910440 + 8624.2126509272 * t);
-        X2 += 0.00000000134 * Math.cos(3.64312166787 + 17298.1823273262 * t);
-        X2 += 0.00000000107 * Math.cos(5.82966879256 + 20452.8694122218 * t);
-        X2 += 0.00000000068 * Math.cos(5.84598202962 + 19367.1891622328 * t);
-        X2 += 0.00000000072 * Math.cos(1.10778150127 + 23581.2581773176 * t);
-        X2 += 0.00000000070 * Math.cos(5.63299061783 + 7084.8967811152 * t);
-        X2 += 0.00000000074 * Math.cos(3.16178470541 + 16496.3613962024 * t);
-        X2 += 0.00000000057 * Math.cos(4.96237460299 + 1109.3785520934 * t);
-        X2 += 0.00000000053 * Math.cos(2.36605837917 + 22003.9146348698 * t);
-        X2 += 0.00000000048 * Math.cos(4.93562349382 + 18073.7049386502 * t);
-        X2 += 0.00000000054 * Math.cos(2.36466233604 + 20809.4676246452 * t);
-        X2 += 0.00000000043 * Math.cos(3.78706374371 + 29050.7837433492 * t);
-        X2 += 0.00000000055 * Math.cos(0.22978754207 + 4732.0306273434 * t);
-        X2 += 0.00000000043 * Math.cos(0.15185271000 + 8094.5216858326 * t);
-        X2 += 0.00000000044 * Math.cos(5.10533977629 + 9638.9407478762 * t);
-        X2 += 0.00000000044 * Math.cos(4.38854627107 + 10787.6303445458 * t);
-        X2 += 0.00000000040 * Math.cos(5.32074711484 + 6283.0758499914 * t);
-        X2 += 0.00000000043 * Math.cos(4.98849256625 + 12566.1516999828 * t);
-        X2 += 0.00000000033 * Math.cos(1.04174898368 + 14919.0178537546 * t);
-        X2 += 0.00000000028 * Math.cos(3.85390317672 + 20235.1228263104 * t);
-        X2 += 0.00000000033 * Math.cos(0.99530602494 + 6489.776587288 * t);
-        X2 += 0.00000000037 * Math.cos(5.11045310809 + 9153.9036160218 * t);
-        X2 += 0.00000000027 * Math.cos(0.81625295039 + 10639.883737087 * t);
-        X2 += 0.00000000027 * Math.cos(2.39444778980 + 9786.687355335 * t);
-        X2 += 0.00000000029 * Math.cos(4.87032618379 + 28286.9904848612 * t);
-        X2 += 0.00000000030 * Math.cos(3.37471697119 + 24356.7807886416 * t);
-        X2 += 0.00000000026 * Math.cos(0.63216688286 + 3149.1641605882 * t);
-        X2 += 0.00000000027 * Math.cos(5.00859316582 + 14143.4952424306 * t);
-        X2 += 0.00000000031 * Math.cos(0.82947045576 + 5507.5532386674 * t);
-        X2 += 0.00000000030 * Math.cos(3.88005298578 + 20400.2727726222 * t);
-        X2 += 0.00000000026 * Math.cos(0.46698874540 + 18875.525869774 * t);
-        X2 += 0.00000000024 * Math.cos(5.30704569197 + 11272.6674764002 * t);
-        X2 += 0.00000000026 * Math.cos(2.47001707887 + 27511.4678735372 * t);
-        X2 += 0.00000000024 * Math.cos(1.86048219684 + 21535.9496445154 * t);
-        X2 += 0.00000000022 * Math.cos(0.00126624686 + 18307.8072320436 * t);
-        X2 += 0.00000000023 * Math.cos(2.21622723743 + 13936.794505134 * t);
-        X2 += 0.00000000018 * Math.cos(3.36089889556 + 28521.0927782546 * t);
-        X2 += 0.00000000015 * Math.cos(2.23535668841 + 8662.240323563 * t);
-        X2 += 0.00000000016 * Math.cos(2.19972601182 + 14945.3161735544 * t);
-        X2 += 0.00000000014 * Math.cos(3.19729711687 + 21202.093703746 * t);
-        X2 += 0.00000000014 * Math.cos(2.58068667661 + 17277.4069318338 * t);
-        X2 += 0.00000000014 * Math.cos(5.26463032742 + 11764.330768859 * t);
-        X2 += 0.00000000016 * Math.cos(2.92030002382 + 32217.2001810808 * t);
-        X2 += 0.00000000013 * Math.cos(1.93488220322 + 34570.0663348526 * t);
-        X2 += 0.00000000013 * Math.cos(0.68541371817 + 22779.4372461938 * t);
-        X2 += 0.00000000012 * Math.cos(3.89742961770 + 31441.6775697568 * t);
-        X2 += 0.00000000015 * Math.cos(3.60443851725 + 29580.4747084438 * t);
-        X2 += 0.00000000013 * Math.cos(3.99248913141 + 25934.1243310894 * t);
-        X2 += 0.00000000012 * Math.cos(3.50566249225 + 25158.6017197654 * t);
-        X2 += 0.00000000009 * Math.cos(3.35947600276 + 38500.2760310722 * t);
-        X2 += 0.00000000009 * Math.cos(4.96082633163 + 29088.811415985 * t);
-        X2 += 0.00000000007 * Math.cos(1.94868342879 + 43232.3066584156 * t);
-        X2 += 0.00000000007 * Math.cos(1.87956392812 + 22805.7355659936 * t);
-        X2 += 0.00000000007 * Math.cos(6.01401596195 + 29999.959352319 * t);
-        X2 += 0.00000000007 * Math.cos(5.94489646128 + 9573.388259897 * t);
-        X2 += 0.00000000007 * Math.cos(3.40501345577 + 30110.1656735384 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 5 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00000073606;
-        X3 += 0.00000019386 * Math.cos(5.23038243202 + 10213.285546211 * t);
-        X3 += 0.00000024718 * Math.cos(3.25340548805 + 20426.571092422 * t);
-        X3 += 0.00000000623 * Math.cos(3.24709806895 + 30639.856638633 * t);
-        X3 += 0.00000000009 * Math.cos(3.72367923110 + 40853.142184844 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 4 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00000000946 * Math.cos(0.39076344760 + 10213.285546211 * t);
-        X4 -= 0.00000000546;
-        X4 += 0.00000000289 * Math.cos(0.95993858755 + 20426.571092422 * t);
-        X4 += 0.00000000030 * Math.cos(0.98741714872 + 30639.856638633 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 3 terms of order 5
-    {
-        double X5 = 0;
-        X5 -= 0.00000000063;
-        X5 += 0.00000000029 * Math.cos(1.94730457757 + 10213.285546211 * t);
-        X5 += 0.00000000022 * Math.cos(0.34341584207 + 20426.571092422 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 565 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 0.72324820731 * Math.cos(1.60573808356 + 10213.285546211 * t);
-        Y0 -= 0.00549506273;
-        Y0 += 0.00244884790 * Math.cos(2.48564954004 + 20426.571092422 * t);
-        Y0 += 0.00002789807 * Math.cos(5.04214523606 + 2352.8661537718 * t);
-        Y0 += 0.00001933868 * Math.cos(5.80597990261 + 1577.3435424478 * t);
-        Y0 += 0.00001243658 * Math.cos(3.36573697344 + 30639.856638633 * t);
-        Y0 += 0.00001164480 * Math.cos(1.30970620277 + 18073.7049386502 * t);
-        Y0 += 0.00001041872 * Math.cos(0.18129136925 + 6283.0758499914 * t);
-        Y0 += 0.00000770549 * Math.cos(5.30366680002 + 529.6909650946 * t);
-        Y0 += 0.00000670527 * Math.cos(6.17032430376 + 14143.4952424306 * t);
-        Y0 += 0.00000657675 * Math.cos(5.21360427049 + 8635.9420037632 * t);
-        Y0 += 0.00000477182 * Math.cos(4.27309387857 + 10186.9872264112 * t);
-        Y0 += 0.00000475690 * Math.cos(2.08026660779 + 10239.5838660108 * t);
-        Y0 += 0.00000559632 * Math.cos(5.87842445808 + 22003.9146348698 * t);
-        Y0 += 0.00000542381 * Math.cos(1.15040078193 + 11790.6290886588 * t);
-        Y0 += 0.00000367778 * Math.cos(2.17623939625 + 9437.762934887 * t);
-        Y0 += 0.00000407052 * Math.cos(2.35411923107 + 775.522611324 * t);
-        Y0 += 0.00000275646 * Math.cos(1.23968348521 + 9683.5945811164 * t);
-        Y0 += 0.00000268898 * Math.cos(5.13218653673 + 10742.9765113056 * t);
-        Y0 += 0.00000302219 * Math.cos(0.94310085463 + 5507.5532386674 * t);
-        Y0 += 0.00000214465 * Math.cos(5.46202116536 + 10021.8372800994 * t);
-        Y0 += 0.00000241591 * Math.cos(4.23657289457 + 10988.808157535 * t);
-        Y0 += 0.00000207456 * Math.cos(0.88354754907 + 10404.7338123226 * t);
-        Y0 += 0.00000274181 * Math.cos(0.42777141449 + 9153.9036160218 * t);
-        Y0 += 0.00000271427 * Math.cos(1.05376720660 + 19896.8801273274 * t);
-        Y0 += 0.00000175993 * Math.cos(1.40721119359 + 191.4482661116 * t);
-        Y0 += 0.00000123120 * Math.cos(0.01710584424 + 1059.3819301892 * t);
-        Y0 += 0.00000154080 * Math.cos(3.78432893453 + 4705.7323075436 * t);
-        Y0 += 0.00000146618 * Math.cos(3.98848869231 + 19651.048481098 * t);
-        Y0 += 0.00000069607 * Math.cos(4.80578213159 + 9103.9069941176 * t);
-        Y0 += 0.00000062765 * Math.cos(1.56960357113 + 11322.6640983044 * t);
-        Y0 += 0.00000080946 * Math.cos(2.57565274435 + 15720.8387848784 * t);
-        Y0 += 0.00000058886 * Math.cos(1.48624205515 + 20618.0193585336 * t);
-        Y0 += 0.00000069363 * Math.cos(3.69964170363 + 13367.9726311066 * t);
-        Y0 += 0.00000060880 * Math.cos(2.21481236691 + 4551.9534970588 * t);
-        Y0 += 0.00000046449 * Math.cos(5.23328801608 + 10192.5101507186 * t);
-        Y0 += 0.00000046324 * Math.cos(1.11900673339 + 10234.0609417034 * t);
-        Y0 += 0.00000062214 * Math.cos(1.01972067969 + 25934.1243310894 * t);
-        Y0 += 0.00000050886 * Math.cos(0.04577660930 + 8624.2126509272 * t);
-        Y0 += 0.00000045635 * Math.cos(0.06422916339 + 19367.1891622328 * t);
-        Y0 += 0.00000057305 * Math.cos(2.21379435263 + 3154.6870848956 * t);
-        Y0 += 0.00000043008 * Math.cos(4.77406484115 + 11015.1064773348 * t);
-        Y0 += 0.00000040191 * Math.cos(1.64117305351 + 9411.4646150872 * t);
-        Y0 += 0.00000047803 * Math.cos(5.57043181545 + 213.299095438 * t);
-        Y0 += 0.00000039695 * Math.cos(3.21219423570 + 801.8209311238 * t);
-        Y0 += 0.00000045195 * Math.cos(0.48101910280 + 29580.4747084438 * t);
-        Y0 += 0.00000036983 * Math.cos(2.82425916202 + 7058.5984613154 * t);
-        Y0 += 0.00000028623 * Math.cos(3.35612170637 + 1109.3785520934 * t);
-        Y0 += 0.00000032033 * Math.cos(4.14384371647 + 15874.6175953632 * t);
-        Y0 += 0.00000036570 * Math.cos(2.34542445828 + 9999.986450773 * t);
-        Y0 += 0.00000035385 * Math.cos(4.01098677439 + 10426.584641649 * t);
-        Y0 += 0.00000026683 * Math.cos(4.05505010621 + 7860.4193924392 * t);
-        Y0 += 0.00000031203 * Math.cos(5.14153242529 + 17298.1823273262 * t);
-        Y0 += 0.00000020281 * Math.cos(1.13139072441 + 10220.3990932118 * t);
-        Y0 += 0.00000020203 * Math.cos(5.21881955034 + 10206.1719992102 * t);
-        Y0 += 0.00000019545 * Math.cos(0.48811065404 + 7.1135470008 * t);
-        Y0 += 0.00000021268 * Math.cos(1.37799999997 + 3128.3887650958 * t);
-        Y0 += 0.00000018884 * Math.cos(0.61668932816 + 26.2983197998 * t);
-        Y0 += 0.00000019675 * Math.cos(1.34966583849 + 3930.2096962196 * t);
-        Y0 += 0.00000017677 * Math.cos(1.74739410911 + 3532.0606928114 * t);
-        Y0 += 0.00000015237 * Math.cos(2.81371933371 + 9830.3890139878 * t);
-        Y0 += 0.00000017691 * Math.cos(3.60800987998 + 7084.8967811152 * t);
-        Y0 += 0.00000013327 * Math.cos(5.53453199388 + 5661.3320491522 * t);
-        Y0 += 0.00000014371 * Math.cos(3.52598338070 + 10596.1820784342 * t);
-        Y0 += 0.00000016090 * Math.cos(0.78654424919 + 20213.271996984 * t);
-        Y0 += 0.00000011121 * Math.cos(2.20216490389 + 28286.9904848612 * t);
-        Y0 += 0.00000014763 * Math.cos(2.49676145619 + 29864.334027309 * t);
-        Y0 += 0.00000012842 * Math.cos(0.47911260035 + 1589.0728952838 * t);
-        Y0 += 0.00000014712 * Math.cos(2.29133684995 + 23581.2581773176 * t);
-        Y0 += 0.00000009394 * Math.cos(5.33533491552 + 11272.6674764002 * t);
-        Y0 += 0.00000011695 * Math.cos(4.63672266528 + 3340.6124266998 * t);
-        Y0 += 0.00000010763 * Math.cos(5.94541303751 + 9929.4262273458 * t);
-        Y0 += 0.00000008761 * Math.cos(0.11029927382 + 29050.7837433492 * t);
-        Y0 += 0.00000010378 * Math.cos(0.40689057274 + 10497.1448650762 * t);
-        Y0 += 0.00000007445 * Math.cos(3.28642860734 + 21535.9496445154 * t);
-        Y0 += 0.00000007498 * Math.cos(4.24533507981 + 40853.142184844 * t);
-        Y0 += 0.00000007389 * Math.cos(5.51255095771 + 16496.3613962024 * t);
-        Y0 += 0.00000008792 * Math.cos(5.18118052529 + 10207.7626219036 * t);
-        Y0 += 0.00000008786 * Math.cos(1.17109977659 + 10218.8084705184 * t);
-        Y0 += 0.00000009913 * Math.cos(6.14997101823 + 9786.687355335 * t);
-        Y0 += 0.00000007423 * Math.cos(2.59067946967 + 10175.2578735752 * t);
-        Y0 += 0.00000007386 * Math.cos(3.76162101633 + 10251.3132188468 * t);
-        Y0 += 0.00000008148 * Math.cos(3.12774143805 + 18837.49819713819 * t);
-        Y0 += 0.00000006728 * Math.cos(5.95684074920 + 8094.5216858326 * t);
-        Y0 += 0.00000006531 * Math.cos(5.88279509445 + 20419.45754542119 * t);
-        Y0 += 0.00000007978 * Math.cos(1.89127848081 + 12566.1516999828 * t);
-        Y0 += 0.00000005882 * Math.cos(0.45870719779 + 32217.2001810808 * t);
-        Y0 += 0.00000005728 * Math.cos(0.74065551442 + 24356.7807886416 * t);
-        Y0 += 0.00000005963 * Math.cos(5.04938942644 + 6681.2248533996 * t);
-        Y0 += 0.00000005965 * Math.cos(0.59433125558 + 426.598190876 * t);
-        Y0 += 0.00000004944 * Math.cos(2.08956957827 + 3149.1641605882 * t);
-        Y0 += 0.00000005640 * Math.cos(3.95018415563 + 382.8965322232 * t);
-        Y0 += 0.00000004593 * Math.cos(1.06358355759 + 14765.2390432698 * t);
-        Y0 += 0.00000004707 * Math.cos(4.98650913328 + 18849.2275499742 * t);
-        Y0 += 0.00000005507 * Math.cos(1.80406867812 + 25158.6017197654 * t);
-        Y0 += 0.00000005411 * Math.cos(2.88024654297 + 26087.9031415742 * t);
-        Y0 += 0.00000005495 * Math.cos(1.72074788403 + 17085.9586657222 * t);
-        Y0 += 0.00000005326 * Math.cos(3.83237566744 + 33794.5437235286 * t);
-        Y0 += 0.00000005089 * Math.cos(0.10337236315 + 14945.3161735544 * t);
-        Y0 += 0.00000003978 * Math.cos(1.32528412563 + 13745.3462390224 * t);
-        Y0 += 0.00000004659 * Math.cos(1.22404458937 + 20452.8694122218 * t);
-        Y0 += 0.00000003998 * Math.cos(4.65648271949 + 4732.0306273434 * t);
-        Y0 += 0.00000004330 * Math.cos(1.83563721109 + 23958.6317852334 * t);
-        Y0 += 0.00000003477 * Math.cos(5.05468526636 + 1551.045222648 * t);
-        Y0 += 0.00000002949 * Math.cos(1.25283495999 + 10198.033075026 * t);
-        Y0 += 0.00000002944 * Math.cos(5.09946217029 + 10228.538017396 * t);
-        Y0 += 0.00000003221 * Math.cos(5.14877320147 + 20400.2727726222 * t);
-        Y0 += 0.00000003317 * Math.cos(1.49275898018 + 18875.525869774 * t);
-        Y0 += 0.00000002888 * Math.cos(2.65887654829 + 18307.8072320436 * t);
-        Y0 += 0.00000002743 * Math.cos(0.21013076684 + 5481.2549188676 * t);
-        Y0 += 0.00000003422 * Math.cos(3.20260172773 + 29088.811415985 * t);
-        Y0 += 0.00000003167 * Math.cos(3.72833942933 + 27511.4678735372 * t);
-        Y0 += 0.00000002431 * Math.cos(2.28525105333 + 30110.1656735384 * t);
-        Y0 += 0.00000002308 * Math.cos(1.19399794720 + 6872.6731195112 * t);
-        Y0 += 0.00000002306 * Math.cos(2.32729148663 + 3442.5749449654 * t);
-        Y0 += 0.00000002424 * Math.cos(5.68140954809 + 20956.2620575166 * t);
-        Y0 += 0.00000002376 * Math.cos(5.99390031067 + 8662.240323563 * t);
-        Y0 += 0.00000002431 * Math.cos(2.10516277403 + 21228.3920235458 * t);
-        Y0 += 0.00000002601 * Math.cos(2.22431686363 + 9580.5018068978 * t);
-        Y0 += 0.00000001984 * Math.cos(4.11155161070 + 17277.4069318338 * t);
-        Y0 += 0.00000002044 * Math.cos(5.75289655241 + 19999.97290154599 * t);
-        Y0 += 0.00000002100 * Math.cos(5.81905329229 + 28521.0927782546 * t);
-        Y0 += 0.00000002207 * Math.cos(2.03000529435 + 536.8045120954 * t);
-        Y0 += 0.00000002010 * Math.cos(5.27974132127 + 21202.093703746 * t);
-        Y0 += 0.00000002471 * Math.cos(4.17663285501 + 10846.0692855242 * t);
-        Y0 += 0.00000001988 * Math.cos(4.08614647864 + 20809.4676246452 * t);
-        Y0 += 0.00000002188 * Math.cos(4.41129276996 + 9967.4538999816 * t);
-        Y0 += 0.00000002278 * Math.cos(2.82110310010 + 10110.1927719924 * t);
-        Y0 += 0.00000002278 * Math.cos(3.53119029368 + 10316.3783204296 * t);
-        Y0 += 0.00000001804 * Math.cos(2.43206099970 + 22779.4372461938 * t);
-        Y0 += 0.00000002118 * Math.cos(1.94080328198 + 10459.1171924404 * t);
-        Y0 += 0.00000002260 * Math.cos(0.59802721740 + 9573.388259897 * t);
-        Y0 += 0.00000001753 * Math.cos(5.10951080278 + 13553.8979729108 * t);
-        Y0 += 0.00000001766 * Math.cos(4.70160896115 + 7064.1213856228 * t);
-        Y0 += 0.00000002081 * Math.cos(5.38873357358 + 522.5774180938 * t);
-        Y0 += 0.00000002093 * Math.cos(2.69264168456 + 9690.7081281172 * t);
-        Y0 += 0.00000002128 * Math.cos(3.57071500134 + 103.0927742186 * t);
-        Y0 += 0.00000001962 * Math.cos(3.66416649367 + 10735.8629643048 * t);
-        Y0 += 0.00000001483 * Math.cos(4.31350753488 + 3723.508958923 * t);
-        Y0 += 0.00000002074 * Math.cos(4.62137633405 + 33019.0211122046 * t);
-        Y0 += 0.00000001480 * Math.cos(4.20172565416 + 16983.9961474566 * t);
-        Y0 += 0.00000001976 * Math.cos(5.25155661903 + 37724.7534197482 * t);
-        Y0 += 0.00000001472 * Math.cos(5.58089341541 + 6770.7106012456 * t);
-        Y0 += 0.00000001659 * Math.cos(0.00230055843 + 20235.1228263104 * t);
-        Y0 += 0.00000001873 * Math.cos(6.21486910777 + 30213.258447757 * t);
-        Y0 += 0.00000001542 * Math.cos(2.45181007185 + 6489.776587288 * t);
-        Y0 += 0.00000001360 * Math.cos(4.22919267004 + 10232.95530711079 * t);
-        Y0 += 0.00000001360 * Math.cos(2.12310072374 + 10193.61578531121 * t);
-        Y0 += 0.00000001567 * Math.cos(3.66460689276 + 9146.790069021 * t);
-        Y0 += 0.00000001592 * Math.cos(0.91871579673 + 10288.0671447783 * t);
-        Y0 += 0.00000001592 * Math.cos(5.43357759705 + 10138.5039476437 * t);
-        Y0 += 0.00000001257 * Math.cos(3.93598172725 + 9793.8009023358 * t);
-        Y0 += 0.00000001232 * Math.cos(5.36389077993 + 20.7753954924 * t);
-        Y0 += 0.00000001560 * Math.cos(5.07643229822 + 9896.8936765544 * t);
-        Y0 += 0.00000001560 * Math.cos(1.27586109556 + 10529.6774158676 * t);
-        Y0 += 0.00000001178 * Math.cos(4.45247045018 + 14919.0178537546 * t);
-        Y0 += 0.00000001158 * Math.cos(2.28822825043 + 10632.7701900862 * t);
-        Y0 += 0.00000001254 * Math.cos(5.80795879481 + 2379.1644735716 * t);
-        Y0 += 0.00000001237 * Math.cos(1.11516406327 + 12592.4500197826 * t);
-        Y0 += 0.00000001402 * Math.cos(3.43281150113 + 10639.883737087 * t);
-        Y0 += 0.00000001435 * Math.cos(0.39193883021 + 9161.0171630226 * t);
-        Y0 += 0.00000000967 * Math.cos(0.02581226166 + 639.897286314 * t);
-        Y0 += 0.00000001192 * Math.cos(2.95601574230 + 39264.0692895602 * t);
-        Y0 += 0.00000001010 * Math.cos(5.80804230901 + 10007.0999977738 * t);
-        Y0 += 0.00000001008 * Math.cos(0.55046820997 + 10419.4710946482 * t);
-        Y0 += 0.00000001269 * Math.cos(6.03842899487 + 36949.2308084242 * t);
-        Y0 += 0.00000001187 * Math.cos(5.04350394974 + 31441.6775697568 * t);
-        Y0 += 0.00000001216 * Math.cos(3.92525318232 + 74.7815985673 * t);
-        Y0 += 0.00000000995 * Math.cos(2.96746942556 + 13341.6743113068 * t);
-        Y0 += 0.00000001120 * Math.cos(0.26190073863 + 245.8316462294 * t);
-        Y0 += 0.00000001139 * Math.cos(0.86087945459 + 2118.7638603784 * t);
-        Y0 += 0.00000000761 * Math.cos(5.59004416449 + 7564.830720738 * t);
-        Y0 += 0.00000000786 * Math.cos(0.51228624161 + 11764.330768859 * t);
-        Y0 += 0.00000000795 * Math.cos(1.85352659217 + 10750.0900583064 * t);
-        Y0 += 0.00000000769 * Math.cos(5.39709006967 + 7834.1210726394 * t);
-        Y0 += 0.00000000784 * Math.cos(4.48666174060 + 9676.4810341156 * t);
-        Y0 += 0.00000000695 * Math.cos(1.82001334483 + 36147.4098773004 * t);
-        Y0 += 0.00000000845 * Math.cos(3.16389685660 + 22805.7355659936 * t);
-        Y0 += 0.00000000787 * Math.cos(4.31922872731 + 19889.76658032659 * t);
-        Y0 += 0.00000000798 * Math.cos(3.51175121692 + 13936.794505134 * t);
-        Y0 += 0.00000000789 * Math.cos(4.89377019350 + 7994.5284420242 * t);
-        Y0 += 0.00000000624 * Math.cos(1.27677428473 + 39793.7602546548 * t);
-        Y0 += 0.00000000808 * Math.cos(0.37657594142 + 41654.9631159678 * t);
-        Y0 += 0.00000000744 * Math.cos(0.94447044889 + 19903.99367432819 * t);
-        Y0 += 0.00000000689 * Math.cos(3.03288154721 + 1066.49547719 * t);
-        Y0 += 0.00000000783 * Math.cos(1.17537914975 + 40879.4405046438 * t);
-        Y0 += 0.00000000632 * Math.cos(5.89589146195 + 52175.8062831484 * t);
-        Y0 += 0.00000000686 * Math.cos(1.54143807247 + 12432.0426503978 * t);
-        Y0 += 0.00000000520 * Math.cos(1.44881507469 + 110.2063212194 * t);
-        Y0 += 0.00000000647 * Math.cos(4.49596793914 + 26735.9452622132 * t);
-        Y0 += 0.00000000605 * Math.cos(3.06366110276 + 10059.5067357262 * t);
-        Y0 += 0.00000000503 * Math.cos(2.26978085577 + 17778.11626694899 * t);
-        Y0 += 0.00000000676 * Math.cos(3.63142919749 + 20529.66386664059 * t);
-        Y0 += 0.00000000593 * Math.cos(3.28870942824 + 10367.0643566958 * t);
-        Y0 += 0.00000000665 * Math.cos(4.76490629865 + 1162.4747044078 * t);
-        Y0 += 0.00000000464 * Math.cos(0.84118413790 + 8631.326197928 * t);
-        Y0 += 0.00000000454 * Math.cos(5.50480758535 + 10042.6126755918 * t);
-        Y0 += 0.00000000444 * Math.cos(0.84748587084 + 10383.9584168302 * t);
-        Y0 += 0.00000000439 * Math.cos(4.57010937002 + 24150.080051345 * t);
-        Y0 += 0.00000000582 * Math.cos(1.01106657087 + 8521.1198767086 * t);
-        Y0 += 0.00000000460 * Math.cos(5.40297168283 + 11802.3584414948 * t);
-        Y0 += 0.00000000498 * Math.cos(2.61301324745 + 16522.6597160022 * t);
-        Y0 += 0.00000000436 * Math.cos(0.28613813561 + 9638.9407478762 * t);
-        Y0 += 0.00000000416 * Math.cos(0.15526058452 + 10225.014899047 * t);
-        Y0 += 0.00000000416 * Math.cos(6.19703280926 + 10201.556193375 * t);
-        Y0 += 0.00000000439 * Math.cos(5.33807558951 + 27991.40181316 * t);
-        Y0 += 0.00000000431 * Math.cos(3.30244061049 + 8617.0991039264 * t);
-        Y0 += 0.00000000472 * Math.cos(3.26622622976 + 2218.7571041868 * t);
-        Y0 += 0.00000000379 * Math.cos(4.94184026058 + 19317.1925403286 * t);
-        Y0 += 0.00000000377 * Math.cos(4.10224485736 + 149.5631971346 * t);
-        Y0 += 0.00000000391 * Math.cos(6.01609758586 + 10787.6303445458 * t);
-        Y0 += 0.00000000355 * Math.cos(2.68573127230 + 30831.3049047446 * t);
-        Y0 += 0.00000000354 * Math.cos(1.27226804531 + 10323.4918674304 * t);
-        Y0 += 0.00000000354 * Math.cos(5.08002534847 + 10103.0792249916 * t);
-        Y0 += 0.00000000420 * Math.cos(1.77275125703 + 9050.8108418032 * t);
-        Y0 += 0.00000000478 * Math.cos(0.19721186884 + 35371.8872659764 * t);
-        Y0 += 0.00000000490 * Math.cos(2.59601400341 + 44809.6502008634 * t);
-        Y0 += 0.00000000429 * Math.cos(1.10169709405 + 13655.8604911764 * t);
-        Y0 += 0.00000000468 * Math.cos(3.72988210531 + 38.1330356378 * t);
-        Y0 += 0.00000000398 * Math.cos(5.69369661409 + 1052.2683831884 * t);
-        Y0 += 0.00000000404 * Math.cos(5.98015684299 + 30666.1549584328 * t);
-        Y0 += 0.00000000331 * Math.cos(4.69331165984 + 27490.6924780448 * t);
-        Y0 += 0.00000000315 * Math.cos(4.73109393582 + 20639.87018786 * t);
-        Y0 += 0.00000000328 * Math.cos(1.01438027476 + 19786.67380610799 * t);
-        Y0 += 0.00000000392 * Math.cos(4.05329100749 + 632.7837393132 * t);
-        Y0 += 0.00000000392 * Math.cos(0.71173908582 + 29999.959352319 * t);
-        Y0 += 0.00000000399 * Math.cos(2.67833209975 + 10211.8010735027 * t);
-        Y0 += 0.00000000399 * Math.cos(3.67396129403 + 10214.7700189193 * t);
-        Y0 += 0.00000000398 * Math.cos(2.07757069100 + 9835.9119382952 * t);
-        Y0 += 0.00000000404 * Math.cos(2.41513448299 + 20351.7894938547 * t);
-        Y0 += 0.00000000385 * Math.cos(6.08106825320 + 20180.7394461926 * t);
-        Y0 += 0.00000000379 * Math.cos(4.27472283876 + 10590.6591541268 * t);
-        Y0 += 0.00000000318 * Math.cos(0.94946325025 + 6309.3741697912 * t);
-        Y0 += 0.00000000336 * Math.cos(5.44898460787 + 220.4126424388 * t);
-        Y0 += 0.00000000365 * Math.cos(6.13706743141 + 10348.910871221 * t);
-        Y0 += 0.00000000365 * Math.cos(0.21522596237 + 10077.660221201 * t);
-        Y0 += 0.00000000283 * Math.cos(3.96316373805 + 3903.9113764198 * t);
-        Y0 += 0.00000000269 * Math.cos(4.01599389913 + 26709.6469424134 * t);
-        Y0 += 0.00000000271 * Math.cos(2.28569001687 + 9745.3205558566 * t);
-        Y0 += 0.00000000327 * Math.cos(1.40630049713 + 9360.089164459 * t);
-        Y0 += 0.00000000264 * Math.cos(3.58982234478 + 76.2660712756 * t);
-        Y0 += 0.00000000314 * Math.cos(6.11319497702 + 20405.7956969296 * t);
-        Y0 += 0.00000000273 * Math.cos(2.81398608180 + 206.1855484372 * t);
-        Y0 += 0.00000000306 * Math.cos(5.83870523892 + 2957.7158944766 * t);
-        Y0 += 0.00000000329 * Math.cos(1.76365842835 + 45585.1728121874 * t);
-        Y0 += 0.00000000254 * Math.cos(4.06665627806 + 10681.2505365654 * t);
-        Y0 += 0.00000000343 * Math.cos(3.07216304543 + 8106.2510386686 * t);
-        Y0 += 0.00000000294 * Math.cos(3.40944983272 + 19360.07561523199 * t);
-        Y0 += 0.00000000234 * Math.cos(2.24935611965 + 19624.7501612982 * t);
-        Y0 += 0.00000000281 * Math.cos(5.49571066653 + 9399.7352622512 * t);
-        Y0 += 0.00000000229 * Math.cos(0.20430029596 + 574.3447983348 * t);
-        Y0 += 0.00000000280 * Math.cos(2.60576987045 + 38734.3783244656 * t);
-        Y0 += 0.00000000229 * Math.cos(2.88442554028 + 949.1756089698 * t);
-        Y0 += 0.00000000309 * Math.cos(4.01568679365 + 48739.859897083 * t);
-        Y0 += 0.00000000222 * Math.cos(2.81789285850 + 8734.4189721466 * t);
-        Y0 += 0.00000000292 * Math.cos(3.65814608665 + 27197.2816936676 * t);
-        Y0 += 0.00000000267 * Math.cos(2.30394736960 + 31749.2351907264 * t);
-        Y0 += 0.00000000229 * Math.cos(2.85216297633 + 9264.1099372412 * t);
-        Y0 += 0.00000000255 * Math.cos(2.46385009073 + 9992.8729037722 * t);
-        Y0 += 0.00000000255 * Math.cos(3.88844330305 + 10433.6981886498 * t);
-        Y0 += 0.00000000259 * Math.cos(3.73915077229 + 29573.361161443 * t);
-        Y0 += 0.00000000211 * Math.cos(4.89515362389 + 10249.3134128884 * t);
-        Y0 += 0.00000000211 * Math.cos(1.45713976989 + 10177.2576795336 * t);
-        Y0 += 0.00000000255 * Math.cos(0.85666245088 + 11026.8358301708 * t);
-        Y0 += 0.00000000275 * Math.cos(1.03976284586 + 34596.3646546524 * t);
-        Y0 += 0.00000000220 * Math.cos(2.13242742555 + 38.0276726358 * t);
-        Y0 += 0.00000000247 * Math.cos(0.33731775967 + 29587.5882554446 * t);
-        Y0 += 0.00000000206 * Math.cos(1.80396539478 + 30426.557543195 * t);
-        Y0 += 0.00000000263 * Math.cos(1.59050643196 + 20433.6846394228 * t);
-        Y0 += 0.00000000212 * Math.cos(1.58965720399 + 10206.65698731099 * t);
-        Y0 += 0.00000000212 * Math.cos(4.76263618979 + 10219.91410511101 * t);
-        Y0 += 0.00000000202 * Math.cos(5.53771508607 + 16894.5103996106 * t);
-        Y0 += 0.00000000197 * Math.cos(3.20271468078 + 40077.61957352 * t);
-        Y0 += 0.00000000254 * Math.cos(2.17517906027 + 37410.5672398786 * t);
-        Y0 += 0.00000000272 * Math.cos(3.28012791525 + 12320.3200537534 * t);
-        Y0 += 0.00000000211 * Math.cos(3.54449702303 + 11162.4611551808 * t);
-        Y0 += 0.00000000266 * Math.cos(2.72829191880 + 377.3736079158 * t);
-        Y0 += 0.00000000186 * Math.cos(2.96624941532 + 10251.4185818488 * t);
-        Y0 += 0.00000000186 * Math.cos(3.38604397846 + 10175.1525105732 * t);
-        Y0 += 0.00000000258 * Math.cos(0.95259827692 + 9864.361125763 * t);
-        Y0 += 0.00000000186 * Math.cos(3.29302251278 + 17271.8840075264 * t);
-        Y0 += 0.00000000257 * Math.cos(3.20894861459 + 10063.7223490764 * t);
-        Y0 += 0.00000000254 * Math.cos(1.58851548099 + 19264.0963880142 * t);
-        Y0 += 0.00000000246 * Math.cos(5.39979365811 + 10562.209966659 * t);
-        Y0 += 0.00000000211 * Math.cos(4.59175138406 + 11375.7602506188 * t);
-        Y0 += 0.00000000233 * Math.cos(1.59229597312 + 39302.096962196 * t);
-        Y0 += 0.00000000178 * Math.cos(5.22149503543 + 10949.1620597428 * t);
-        Y0 += 0.00000000178 * Math.cos(1.13079835835 + 9477.4090326792 * t);
-        Y0 += 0.00000000197 * Math.cos(5.67124977323 + 1692.1656695024 * t);
-        Y0 += 0.00000000177 * Math.cos(4.83529684993 + 20316.36477120259 * t);
-        Y0 += 0.00000000154 * Math.cos(5.43597579906 + 10199.0584522094 * t);
-        Y0 += 0.00000000154 * Math.cos(0.91631759472 + 10227.5126402126 * t);
-        Y0 += 0.00000000176 * Math.cos(0.33520501486 + 14.2270940016 * t);
-        Y0 += 0.00000000152 * Math.cos(4.19364670284 + 283.8593188652 * t);
-        Y0 += 0.00000000166 * Math.cos(2.18082507791 + 10263.0425716828 * t);
-        Y0 += 0.00000000166 * Math.cos(4.17146831587 + 10163.5285207392 * t);
-        Y0 += 0.00000000168 * Math.cos(0.62501827359 + 7991.428911614 * t);
-        Y0 += 0.00000000182 * Math.cos(2.27073026813 + 9256.9963902404 * t);
-        Y0 += 0.00000000197 * Math.cos(1.86994400353 + 846.0828347512 * t);
-        Y0 += 0.00000000169 * Math.cos(4.14838568997 + 11265.5539293994 * t);
-        Y0 += 0.00000000152 * Math.cos(4.81054163957 + 9367.2027114598 * t);
-        Y0 += 0.00000000195 * Math.cos(3.84051863538 + 8837.5117463652 * t);
-        Y0 += 0.00000000140 * Math.cos(5.04268037408 + 10191.4347168846 * t);
-        Y0 += 0.00000000140 * Math.cos(1.30961301970 + 10235.1363755374 * t);
-        Y0 += 0.00000000196 * Math.cos(3.84517606319 + 1293.4842235826 * t);
-        Y0 += 0.00000000191 * Math.cos(5.43460705034 + 52670.0695933026 * t);
-        Y0 += 0.00000000183 * Math.cos(2.47363849671 + 38526.574350872 * t);
-        Y0 += 0.00000000138 * Math.cos(5.09734035169 + 10217.2176994741 * t);
-        Y0 += 0.00000000138 * Math.cos(1.25495304209 + 10209.3533929479 * t);
-        Y0 += 0.00000000148 * Math.cos(0.77105069393 + 19374.3027092336 * t);
-        Y0 += 0.00000000143 * Math.cos(6.11571774821 + 20447.3464879144 * t);
-        Y0 += 0.00000000156 * Math.cos(6.26097721339 + 9779.5738083342 * t);
-        Y0 += 0.00000000126 * Math.cos(2.24994178665 + 20277.0078952874 * t);
-        Y0 += 0.00000000149 * Math.cos(0.61484998961 + 10135.611775783 * t);
-        Y0 += 0.00000000149 * Math.cos(5.73744340417 + 10290.959316639 * t);
-        Y0 += 0.00000000117 * Math.cos(5.64821183940 + 1581.959348283 * t);
-        Y0 += 0.00000000151 * Math.cos(5.55480633210 + 10245.8180970024 * t);
-        Y0 += 0.00000000151 * Math.cos(0.79748706168 + 10180.7529954196 * t);
-        Y0 += 0.00000000119 * Math.cos(1.19706827555 + 7255.5696517344 * t);
-        Y0 += 0.00000000144 * Math.cos(2.25615309488 + 9985.809413422 * t);
-        Y0 += 0.00000000144 * Math.cos(4.09614029890 + 10440.76167900 * t);
-        Y0 += 0.00000000130 * Math.cos(4.00092308815 + 10236.0607476618 * t);
-        Y0 += 0.00000000130 * Math.cos(2.35137030563 + 10190.5103447602 * t);
-        Y0 += 0.00000000156 * Math.cos(2.62001496108 + 20388.4380567842 * t);
-        Y0 += 0.00000000155 * Math.cos(5.57179123583 + 8237.793000355 * t);
-        Y0 += 0.00000000134 * Math.cos(3.09738168989 + 49515.382508407 * t);
-        Y0 += 0.00000000130 * Math.cos(2.02381333844 + 38204.687359371 * t);
-        Y0 += 0.00000000106 * Math.cos(6.19602488368 + 17468.8551979454 * t);
-        Y0 += 0.00000000131 * Math.cos(0.68489685701 + 8101.6352328334 * t);
-        Y0 += 0.00000000103 * Math.cos(2.80780479569 + 24978.5245894808 * t);
-        Y0 += 0.00000000102 * Math.cos(2.52405576525 + 419.4846438752 * t);
-        Y0 += 0.00000000122 * Math.cos(2.34109232351 + 19793.7873531088 * t);
-        Y0 += 0.00000000101 * Math.cos(3.69358080572 + 20043.6745601988 * t);
-        Y0 += 0.00000000135 * Math.cos(4.50553232470 + 5999.2165311262 * t);
-        Y0 += 0.00000000097 * Math.cos(5.63290016993 + 853.196381752 * t);
-        Y0 += 0.00000000123 * Math.cos(2.99027576045 + 43232.3066584156 * t);
-        Y0 += 0.00000000109 * Math.cos(4.59018786120 + 43071.8992890308 * t);
-        Y0 += 0.00000000099 * Math.cos(2.67241755916 + 78263.70942472259 * t);
-        Y0 += 0.00000000130 * Math.cos(1.64611266829 + 4176.041342449 * t);
-        Y0 += 0.00000000122 * Math.cos(5.60169381159 + 24383.0791084414 * t);
-        Y0 += 0.00000000097 * Math.cos(5.88286380267 + 32858.61374281979 * t);
-        Y0 += 0.00000000112 * Math.cos(0.89977181729 + 20206.15844998319 * t);
-        Y0 += 0.00000000093 * Math.cos(1.80493983620 + 8204.728007052 * t);
-        Y0 += 0.00000000098 * Math.cos(1.55452229557 + 11059.3683809622 * t);
-        Y0 += 0.00000000121 * Math.cos(3.89536747733 + 42456.7840470916 * t);
-        Y0 += 0.00000000091 * Math.cos(2.45754138550 + 18844.61174413899 * t);
-        Y0 += 0.00000000103 * Math.cos(3.58160703323 + 10244.199671846 * t);
-        Y0 += 0.00000000103 * Math.cos(2.77068636055 + 10182.371420576 * t);
-        Y0 += 0.00000000125 * Math.cos(0.78050551092 + 12188.778092067 * t);
-        Y0 += 0.00000000097 * Math.cos(2.34874466786 + 2333.196392872 * t);
-        Y0 += 0.00000000122 * Math.cos(0.57162307533 + 56600.2792895222 * t);
-        Y0 += 0.00000000088 * Math.cos(2.76213355426 + 20350.3050211464 * t);
-        Y0 += 0.00000000102 * Math.cos(5.88069001423 + 3.9321532631 * t);
-        Y0 += 0.00000000122 * Math.cos(3.86087135261 + 2636.725472637 * t);
-        Y0 += 0.00000000087 * Math.cos(2.93241416282 + 8087.4081388318 * t);
-        Y0 += 0.00000000086 * Math.cos(5.21923091634 + 7035.1397556434 * t);
-        Y0 += 0.00000000086 * Math.cos(0.89639333663 + 29057.89729034999 * t);
-        Y0 += 0.00000000095 * Math.cos(0.46006492106 + 10202.2398459471 * t);
-        Y0 += 0.00000000095 * Math.cos(5.89222847272 + 10224.3312464749 * t);
-        Y0 += 0.00000000084 * Math.cos(5.03945503208 + 27461.7108480654 * t);
-        Y0 += 0.00000000084 * Math.cos(5.94038512576 + 10401.2106939736 * t);
-        Y0 += 0.00000000084 * Math.cos(0.41190826802 + 10025.3603984484 * t);
-        Y0 += 0.00000000085 * Math.cos(3.46647958947 + 19477.39548345219 * t);
-        Y0 += 0.00000000099 * Math.cos(1.23120634693 + 2648.454825473 * t);
-        Y0 += 0.00000000098 * Math.cos(3.80111874017 + 20220.3855439848 * t);
-        Y0 += 0.00000000100 * Math.cos(3.49942556903 + 1596.1864422846 * t);
-        Y0 += 0.00000000091 * Math.cos(3.84142883929 + 14169.7935622304 * t);
-        Y0 += 0.00000000095 * Math.cos(1.78055741695 + 29477.3819342252 * t);
-        Y0 += 0.00000000096 * Math.cos(0.05074222339 + 30206.14490075619 * t);
-        Y0 += 0.00000000101 * Math.cos(2.86422529330 + 38500.2760310722 * t);
-        Y0 += 0.00000000095 * Math.cos(2.94691545874 + 30220.3719947578 * t);
-        Y0 += 0.00000000077 * Math.cos(2.01507273057 + 10853.182832525 * t);
-        Y0 += 0.00000000107 * Math.cos(3.08276575514 + 2069.0068349066 * t);
-        Y0 += 0.00000000076 * Math.cos(3.30386469943 + 10243.1069843598 * t);
-        Y0 += 0.00000000076 * Math.cos(3.04842869435 + 10183.4641080622 * t);
-        Y0 += 0.00000000076 * Math.cos(4.53950259247 + 44007.8292697396 * t);
-        Y0 += 0.00000000078 * Math.cos(5.37998455046 + 7880.08915333899 * t);
-        Y0 += 0.00000000076 * Math.cos(4.51276408387 + 956.2891559706 * t);
-        Y0 += 0.00000000084 * Math.cos(4.18317376174 + 1478.8665740644 * t);
-        Y0 += 0.00000000100 * Math.cos(1.06747118471 + 28947.6909691306 * t);
-        Y0 += 0.00000000072 * Math.cos(1.90029548750 + 17248.4253018544 * t);
-        Y0 += 0.00000000082 * Math.cos(5.95948324562 + 5.5229243074 * t);
-        Y0 += 0.00000000078 * Math.cos(3.37272107675 + 29043.67019634839 * t);
-        Y0 += 0.00000000075 * Math.cos(0.44027902661 + 21000.9158907568 * t);
-        Y0 += 0.00000000071 * Math.cos(2.52223847071 + 22645.32819660879 * t);
-        Y0 += 0.00000000074 * Math.cos(0.35341011835 + 8827.3902698748 * t);
-        Y0 += 0.00000000085 * Math.cos(0.56779936902 + 3914.9572250346 * t);
-        Y0 += 0.00000000070 * Math.cos(6.20393956561 + 6298.3283211764 * t);
-        Y0 += 0.00000000072 * Math.cos(2.38867048672 + 34171.9173314444 * t);
-        Y0 += 0.00000000079 * Math.cos(1.08839441675 + 10018.3141617504 * t);
-        Y0 += 0.00000000079 * Math.cos(5.26389897703 + 10408.2569306716 * t);
-        Y0 += 0.00000000075 * Math.cos(0.64877739613 + 18734.4054229196 * t);
-        Y0 += 0.00000000069 * Math.cos(5.61697903331 + 41044.5904509556 * t);
-        Y0 += 0.00000000069 * Math.cos(0.68347421356 + 9644.4636721836 * t);
-        Y0 += 0.00000000069 * Math.cos(5.66881918022 + 10782.1074202384 * t);
-        Y0 += 0.00000000083 * Math.cos(4.22258770909 + 9721.6222537522 * t);
-        Y0 += 0.00000000083 * Math.cos(2.12970568469 + 10704.9488386698 * t);
-        Y0 += 0.00000000072 * Math.cos(0.13848852336 + 18830.38465013739 * t);
-        Y0 += 0.00000000090 * Math.cos(3.61691095667 + 20049.1974845062 * t);
-        Y0 += 0.00000000076 * Math.cos(5.76440532006 + 21485.95302261119 * t);
-        Y0 += 0.00000000072 * Math.cos(2.56964528099 + 19573.37471066999 * t);
-        Y0 += 0.00000000063 * Math.cos(3.18646450612 + 18314.9207790444 * t);
-        Y0 += 0.00000000070 * Math.cos(1.43478197258 + 1573.8204240988 * t);
-        Y0 += 0.00000000083 * Math.cos(5.34151461839 + 46386.9937433112 * t);
-        Y0 += 0.00000000067 * Math.cos(2.05862077241 + 3956.5080160194 * t);
-        Y0 += 0.00000000070 * Math.cos(0.75267806535 + 1580.8666607968 * t);
-        Y0 += 0.00000000087 * Math.cos(3.90827818520 + 29264.0828387872 * t);
-        Y0 += 0.00000000071 * Math.cos(0.66382087848 + 28418.000004036 * t);
-        Y0 += 0.00000000061 * Math.cos(1.55846256298 + 27682.1407441564 * t);
-        Y0 += 0.00000000060 * Math.cos(6.06109901775 + 20421.0481681146 * t);
-        Y0 += 0.00000000076 * Math.cos(2.36906364898 + 29683.56748266239 * t);
-        Y0 += 0.00000000064 * Math.cos(5.87747392917 + 18300.69368504279 * t);
-        Y0 += 0.00000000062 * Math.cos(5.99888400949 + 11599.1808225472 * t);
-        Y0 += 0.00000000079 * Math.cos(0.78455831236 + 28313.288804661 * t);
-        Y0 += 0.00000000058 * Math.cos(1.51132246914 + 7576.560073574 * t);
-        Y0 += 0.00000000057 * Math.cos(2.10835504837 + 11279.781023401 * t);
-        Y0 += 0.00000000079 * Math.cos(1.99170433665 + 60530.4889857418 * t);
-        Y0 += 0.00000000059 * Math.cos(5.97279707503 + 10254.8363371958 * t);
-        Y0 += 0.00000000059 * Math.cos(0.37949631875 + 10171.7347552262 * t);
-        Y0 += 0.00000000057 * Math.cos(2.49183550585 + 20464.5987650578 * t);
-        Y0 += 0.00000000079 * Math.cos(3.55016127148 + 10137.0194749354 * t);
-        Y0 += 0.00000000062 * Math.cos(1.89895196585 + 31022.7531708562 * t);
-        Y0 += 0.00000000074 * Math.cos(3.35112731202 + 53285.1848352418 * t);
-        Y0 += 0.00000000064 * Math.cos(4.00074980257 + 30007.0728993198 * t);
-        Y0 += 0.00000000058 * Math.cos(1.48653338098 + 75449.50683949639 * t);
-        Y0 += 0.00000000073 * Math.cos(2.27987119168 + 51449.3242632782 * t);
-        Y0 += 0.00000000074 * Math.cos(3.91369739911 + 21720.0553160046 * t);
-        Y0 += 0.00000000069 * Math.cos(4.29368361875 + 18093.37469954999 * t);
-        Y0 += 0.00000000072 * Math.cos(2.90060146744 + 100608.10855926179 * t);
-        Y0 += 0.00000000061 * Math.cos(5.27096932810 + 18100.00325845 * t);
-        Y0 += 0.00000000052 * Math.cos(0.52182858466 + 40426.543993968 * t);
-        Y0 += 0.00000000058 * Math.cos(6.02426265881 + 20412.34399842039 * t);
-        Y0 += 0.00000000065 * Math.cos(2.14229590210 + 32243.4985008806 * t);
-        Y0 += 0.00000000059 * Math.cos(4.73931220180 + 47162.5163546352 * t);
-        Y0 += 0.00000000056 * Math.cos(4.39886775705 + 53445.5922046266 * t);
-        Y0 += 0.00000000057 * Math.cos(3.46964286996 + 8307.8207812706 * t);
-        Y0 += 0.00000000050 * Math.cos(6.27092935627 + 8418.02710249 * t);
-        Y0 += 0.00000000066 * Math.cos(3.34109931244 + 78604.19392439199 * t);
-        Y0 += 0.00000000066 * Math.cos(4.48087077585 + 19580.4882576708 * t);
-        Y0 += 0.00000000047 * Math.cos(3.24772372978 + 38741.4918714664 * t);
-        Y0 += 0.00000000050 * Math.cos(6.05227901906 + 59160.9494168876 * t);
-        Y0 += 0.00000000055 * Math.cos(5.41416986220 + 48947.6638706766 * t);
-        Y0 += 0.00000000046 * Math.cos(5.77895747608 + 194.9713844606 * t);
-        Y0 += 0.00000000056 * Math.cos(5.79105836654 + 9936.5397743466 * t);
-        Y0 += 0.00000000056 * Math.cos(0.56123502724 + 10490.0313180754 * t);
-        Y0 += 0.00000000054 * Math.cos(2.92585194345 + 9922.312680345 * t);
-        Y0 += 0.00000000054 * Math.cos(3.42644145033 + 10504.258412077 * t);
-        Y0 += 0.00000000059 * Math.cos(3.59330170983 + 18204.71445782499 * t);
-        Y0 += 0.00000000048 * Math.cos(5.93972997403 + 38727.2647774648 * t);
-        Y0 += 0.00000000061 * Math.cos(4.41585090977 + 10139.988420352 * t);
-        Y0 += 0.00000000061 * Math.cos(1.93644248401 + 10286.58267207 * t);
-        Y0 += 0.00000000061 * Math.cos(5.28413978764 + 6566.9351688566 * t);
-        Y0 += 0.00000000060 * Math.cos(6.18401612782 + 86464.61331683119 * t);
-        Y0 += 0.00000000048 * Math.cos(1.78116870506 + 9246.3146687754 * t);
-        Y0 += 0.00000000060 * Math.cos(4.34226209904 + 3684.3780499902 * t);
-        Y0 += 0.00000000060 * Math.cos(1.84622268138 + 14427.3545612958 * t);
-        Y0 += 0.00000000051 * Math.cos(0.71928664610 + 9566.2747128962 * t);
-        Y0 += 0.00000000052 * Math.cos(1.63253830755 + 8727.3054251458 * t);
-        Y0 += 0.00000000054 * Math.cos(3.78910232599 + 47623.8527860896 * t);
-        Y0 += 0.00000000048 * Math.cos(0.48345704135 + 433.7117378768 * t);
-        Y0 += 0.00000000045 * Math.cos(3.95006454295 + 10263.2821681152 * t);
-        Y0 += 0.00000000045 * Math.cos(2.40222885083 + 10163.2889243068 * t);
-        Y0 += 0.00000000049 * Math.cos(0.08548300777 + 9794.3611473104 * t);
-        Y0 += 0.00000000049 * Math.cos(6.26681038601 + 10632.2099451116 * t);
-        Y0 += 0.00000000058 * Math.cos(1.48165013529 + 1861.202861313 * t);
-        Y0 += 0.00000000047 * Math.cos(6.22156178529 + 20142.7117735568 * t);
-        Y0 += 0.00000000044 * Math.cos(0.47724556879 + 30632.74309163219 * t);
-        Y0 += 0.00000000041 * Math.cos(4.84097099797 + 12850.011018848 * t);
-        Y0 += 0.00000000045 * Math.cos(3.81128625757 + 2349.3430354228 * t);
-        Y0 += 0.00000000045 * Math.cos(3.12918282665 + 2356.3892721208 * t);
-        Y0 += 0.00000000042 * Math.cos(3.51224472308 + 77802.37299326819 * t);
-        Y0 += 0.00000000046 * Math.cos(1.42734790968 + 115674.27666460119 * t);
-        Y0 += 0.00000000044 * Math.cos(2.89783366184 + 79379.716535716 * t);
-        Y0 += 0.00000000041 * Math.cos(1.23522586481 + 25132.3033999656 * t);
-        Y0 += 0.00000000039 * Math.cos(1.87346435474 + 28631.29909947399 * t);
-        Y0 += 0.00000000052 * Math.cos(3.63882972952 + 38631.285550247 * t);
-        Y0 += 0.00000000043 * Math.cos(4.57112464191 + 11180.2564236466 * t);
-        Y0 += 0.00000000039 * Math.cos(5.73237078975 + 1265.5674786264 * t);
-        Y0 += 0.00000000052 * Math.cos(0.42186741524 + 1.4844727083 * t);
-        Y0 += 0.00000000047 * Math.cos(0.17782919736 + 187.9251477626 * t);
-        Y0 += 0.00000000039 * Math.cos(5.18683524181 + 54981.3849560896 * t);
-        Y0 += 0.00000000044 * Math.cos(5.88330364964 + 10168.1443265744 * t);
-        Y0 += 0.00000000044 * Math.cos(0.46898974414 + 10258.4267658476 * t);
-        Y0 += 0.00000000041 * Math.cos(1.16123981348 + 24341.5283174566 * t);
-        Y0 += 0.00000000051 * Math.cos(3.41164207102 + 64460.6986819614 * t);
-        Y0 += 0.00000000043 * Math.cos(0.40869970249 + 22030.2129546696 * t);
-        Y0 += 0.00000000041 * Math.cos(0.99171071955 + 47358.5909753928 * t);
-        Y0 += 0.00000000051 * Math.cos(4.32233055210 + 104538.3182554814 * t);
-        Y0 += 0.00000000051 * Math.cos(4.70514482859 + 16250.529749973 * t);
-        Y0 += 0.00000000037 * Math.cos(2.91616393795 + 29160.9900645686 * t);
-        Y0 += 0.00000000043 * Math.cos(3.35259007747 + 10362.8487433456 * t);
-        Y0 += 0.00000000039 * Math.cos(1.62990239695 + 37674.9963942764 * t);
-        Y0 += 0.00000000038 * Math.cos(2.56508843435 + 47917.2635704668 * t);
-        Y0 += 0.00000000037 * Math.cos(2.84218380221 + 6256.7775301916 * t);
-        Y0 += 0.00000000036 * Math.cos(1.39948651785 + 8673.969676399 * t);
-        Y0 += 0.00000000050 * Math.cos(1.83789408271 + 54247.4131357504 * t);
-        Y0 += 0.00000000044 * Math.cos(0.56832443467 + 50317.2034395308 * t);
-        Y0 += 0.00000000049 * Math.cos(0.39141584772 + 491.6632924588 * t);
-        Y0 += 0.00000000035 * Math.cos(1.18237243551 + 12546.481939083 * t);
-        Y0 += 0.00000000044 * Math.cos(2.73569081007 + 9697.821675118 * t);
-        Y0 += 0.00000000044 * Math.cos(3.61660258371 + 10728.749417304 * t);
-        Y0 += 0.00000000036 * Math.cos(0.66587329374 + 69941.95360082899 * t);
-        Y0 += 0.00000000037 * Math.cos(1.68139239859 + 35191.8101356918 * t);
-        Y0 += 0.00000000035 * Math.cos(0.76656495982 + 48733.23133818299 * t);
-        Y0 += 0.00000000035 * Math.cos(3.22135299939 + 10011.0321510369 * t);
-        Y0 += 0.00000000035 * Math.cos(3.13094039439 + 10415.5389413851 * t);
-        Y0 += 0.00000000036 * Math.cos(3.40125641272 + 100909.03762133139 * t);
-        Y0 += 0.00000000044 * Math.cos(1.20989531942 + 36301.18868778519 * t);
-        Y0 += 0.00000000047 * Math.cos(2.53044739139 + 88041.956859279 * t);
-        Y0 += 0.00000000034 * Math.cos(5.96407611411 + 47938.0389659592 * t);
-        Y0 += 0.00000000033 * Math.cos(3.80922491688 + 49477.35483577119 * t);
-        Y0 += 0.00000000045 * Math.cos(6.15174229277 + 66038.04222440919 * t);
-        Y0 += 0.00000000040 * Math.cos(5.33231345721 + 28513.97923125379 * t);
-        Y0 += 0.00000000033 * Math.cos(1.28829842226 + 34363.365597556 * t);
-        Y0 += 0.00000000033 * Math.cos(2.72260069006 + 55798.4583583984 * t);
-        Y0 += 0.00000000033 * Math.cos(3.40692233770 + 54394.56338733519 * t);
-        Y0 += 0.00000000034 * Math.cos(4.57649322994 + 31214.2014369678 * t);
-        Y0 += 0.00000000033 * Math.cos(2.17810098111 + 10117.3063189932 * t);
-        Y0 += 0.00000000033 * Math.cos(4.17419241267 + 10309.2647734288 * t);
-        Y0 += 0.00000000034 * Math.cos(0.22515043919 + 7461.7379465194 * t);
-        Y0 += 0.00000000037 * Math.cos(5.80408586611 + 58946.51688439399 * t);
-        Y0 += 0.00000000044 * Math.cos(1.32352355619 + 90394.82301305079 * t);
-        Y0 += 0.00000000039 * Math.cos(1.14927453817 + 316.3918696566 * t);
-        Y0 += 0.00000000038 * Math.cos(1.18845657835 + 74821.13447975718 * t);
-        Y0 += 0.00000000031 * Math.cos(1.87707549397 + 30103.05212653759 * t);
-        Y0 += 0.00000000032 * Math.cos(0.98619416724 + 34570.0663348526 * t);
-        Y0 += 0.00000000032 * Math.cos(1.81438986358 + 29786.660256881 * t);
-        Y0 += 0.00000000032 * Math.cos(2.19359308367 + 21977.61631507 * t);
-        Y0 += 0.00000000036 * Math.cos(5.94106521859 + 20430.50324568509 * t);
-        Y0 += 0.00000000032 * Math.cos(4.93495248062 + 81732.5826894878 * t);
-        Y0 += 0.00000000043 * Math.cos(3.24614367572 + 58177.62283197 * t);
-        Y0 += 0.00000000035 * Math.cos(6.20793918435 + 51092.7260508548 * t);
-        Y0 += 0.00000000033 * Math.cos(1.38971011469 + 55022.9357470744 * t);
-        Y0 += 0.00000000033 * Math.cos(4.31034440765 + 83309.92623193559 * t);
-        Y0 += 0.00000000029 * Math.cos(4.95280733068 + 11752.601416023 * t);
-        Y0 += 0.00000000030 * Math.cos(0.91907247414 + 11.0457002639 * t);
-        Y0 += 0.00000000029 * Math.cos(3.94608385223 + 9800.9144493366 * t);
-        Y0 += 0.00000000029 * Math.cos(2.40620954155 + 10625.6566430854 * t);
-        Y0 += 0.00000000030 * Math.cos(2.05100908229 + 20432.0940167294 * t);
-        Y0 += 0.00000000029 * Math.cos(5.98297157212 + 9889.7801295536 * t);
-        Y0 += 0.00000000038 * Math.cos(1.57699576377 + 47964.337285759 * t);
-        Y0 += 0.00000000039 * Math.cos(5.95942234005 + 47888.2819404874 * t);
-        Y0 += 0.00000000039 * Math.cos(5.51640686424 + 14128.2427712456 * t);
-        Y0 += 0.00000000029 * Math.cos(1.67115577064 + 85034.42002596818 * t);
-        Y0 += 0.00000000039 * Math.cos(5.81881044351 + 73898.46161684839 * t);
-        Y0 += 0.00000000040 * Math.cos(2.84352268392 + 80181.53746683979 * t);
-        Y0 += 0.00000000029 * Math.cos(0.20497537275 + 224.3447957019 * t);
-        Y0 += 0.00000000028 * Math.cos(4.98574596975 + 10098.84625752579 * t);
-        Y0 += 0.00000000028 * Math.cos(1.36654742403 + 10327.72483489621 * t);
-        Y0 += 0.00000000039 * Math.cos(2.90361169612 + 5791.4125575326 * t);
-        Y0 += 0.00000000039 * Math.cos(3.61855841109 + 30563.5905673574 * t);
-        Y0 += 0.00000000034 * Math.cos(2.65806280363 + 1539.315869812 * t);
-        Y0 += 0.00000000028 * Math.cos(0.72550860398 + 1179.1945390396 * t);
-        Y0 += 0.00000000031 * Math.cos(3.89570695535 + 39786.646707654 * t);
-        Y0 += 0.00000000028 * Math.cos(2.08868760692 + 73872.1632970486 * t);
-        Y0 += 0.00000000028 * Math.cos(5.13152921511 + 15694.5404650786 * t);
-        Y0 += 0.00000000034 * Math.cos(2.10761573799 + 40213.24489853 * t);
-        Y0 += 0.00000000030 * Math.cos(4.24679619338 + 62883.3551395136 * t);
-        Y0 += 0.00000000029 * Math.cos(5.84823794150 + 110012.94461544899 * t);
-        Y0 += 0.00000000034 * Math.cos(1.33501180136 + 42430.4857272918 * t);
-        Y0 += 0.00000000037 * Math.cos(4.74983943559 + 82534.40362061159 * t);
-        Y0 += 0.00000000037 * Math.cos(1.06810341965 + 13859.6359235654 * t);
-        Y0 += 0.00000000037 * Math.cos(2.06942308542 + 37703.9780242558 * t);
-        Y0 += 0.00000000031 * Math.cos(1.84196344987 + 25960.4226508892 * t);
-        Y0 += 0.00000000028 * Math.cos(3.49625376754 + 7886.717712239 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 325 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.00039231430;
-        Y1 += 0.00017282326 * Math.cos(5.63824735900 + 20426.571092422 * t);
-        Y1 += 0.00005968075 * Math.cos(3.60854944086 + 10213.285546211 * t);
-        Y1 += 0.00000175529 * Math.cos(0.23554665359 + 30639.856638633 * t);
-        Y1 += 0.00000060346 * Math.cos(3.35752563808 + 8635.9420037632 * t);
-        Y1 += 0.00000063046 * Math.cos(0.52083190822 + 10186.9872264112 * t);
-        Y1 += 0.00000062777 * Math.cos(5.83131036994 + 10239.5838660108 * t);
-        Y1 += 0.00000049333 * Math.cos(3.00159177408 + 11790.6290886588 * t);
-        Y1 += 0.00000036923 * Math.cos(0.50255601130 + 775.522611324 * t);
-        Y1 += 0.00000030123 * Math.cos(3.75643102233 + 10021.8372800994 * t);
-        Y1 += 0.00000029363 * Math.cos(2.59481166718 + 10404.7338123226 * t);
-        Y1 += 0.00000019871 * Math.cos(5.85591903319 + 9437.762934887 * t);
-        Y1 += 0.00000017907 * Math.cos(0.50709742814 + 10988.808157535 * t);
-        Y1 += 0.00000014387 * Math.cos(2.14852937659 + 9683.5945811164 * t);
-        Y1 += 0.00000013498 * Math.cos(2.90084412618 + 191.4482661116 * t);
-        Y1 += 0.00000013527 * Math.cos(4.20185541440 + 10742.9765113056 * t);
-        Y1 += 0.00000014059 * Math.cos(1.92999301659 + 4705.7323075436 * t);
-        Y1 += 0.00000013447 * Math.cos(5.86031739106 + 19651.048481098 * t);
-        Y1 += 0.00000006877 * Math.cos(3.26548847716 + 9103.9069941176 * t);
-        Y1 += 0.00000007587 * Math.cos(4.00807231212 + 1059.3819301892 * t);
-        Y1 += 0.00000007454 * Math.cos(4.42301263508 + 15720.8387848784 * t);
-        Y1 += 0.00000006040 * Math.cos(3.09328817274 + 11322.6640983044 * t);
-        Y1 += 0.00000005966 * Math.cos(0.53259218563 + 10206.1719992102 * t);
-        Y1 += 0.00000005966 * Math.cos(5.81970120815 + 10220.3990932118 * t);
-        Y1 += 0.00000005176 * Math.cos(4.06410179125 + 3154.6870848956 * t);
-        Y1 += 0.00000004564 * Math.cos(3.01891927717 + 20618.0193585336 * t);
-        Y1 += 0.00000004240 * Math.cos(4.49316795437 + 9999.986450773 * t);
-        Y1 += 0.00000004157 * Math.cos(1.86903191118 + 10426.584641649 * t);
-        Y1 += 0.00000004649 * Math.cos(1.29491122903 + 9830.3890139878 * t);
-        Y1 += 0.00000004405 * Math.cos(5.05081380319 + 10596.1820784342 * t);
-        Y1 += 0.00000004049 * Math.cos(5.10031933517 + 7.1135470008 * t);
-        Y1 += 0.00000003590 * Math.cos(0.89608249763 + 7860.4193924392 * t);
-        Y1 += 0.00000002625 * Math.cos(0.95628165683 + 8624.2126509272 * t);
-        Y1 += 0.00000002726 * Math.cos(2.33981418835 + 19367.1891622328 * t);
-        Y1 += 0.00000002696 * Math.cos(5.36941111650 + 7058.5984613154 * t);
-        Y1 += 0.00000002546 * Math.cos(1.70280413881 + 11015.1064773348 * t);
-        Y1 += 0.00000002707 * Math.cos(0.24920171339 + 801.8209311238 * t);
-        Y1 += 0.00000002539 * Math.cos(4.39873959203 + 9411.4646150872 * t);
-        Y1 += 0.00000001912 * Math.cos(4.86762627934 + 1109.3785520934 * t);
-        Y1 += 0.00000001933 * Math.cos(3.28230569196 + 3930.2096962196 * t);
-        Y1 += 0.00000001833 * Math.cos(0.97295205973 + 13367.9726311066 * t);
-        Y1 += 0.00000001586 * Math.cos(1.12226291756 + 40853.142184844 * t);
-        Y1 += 0.00000001758 * Math.cos(0.69532491254 + 4551.9534970588 * t);
-        Y1 += 0.00000001992 * Math.cos(4.09610698677 + 26.2983197998 * t);
-        Y1 += 0.00000001694 * Math.cos(0.76426907626 + 1577.3435424478 * t);
-        Y1 += 0.00000001484 * Math.cos(5.54999908988 + 7084.8967811152 * t);
-        Y1 += 0.00000001515 * Math.cos(5.35568982676 + 12566.1516999828 * t);
-        Y1 += 0.00000001400 * Math.cos(4.67642362946 + 11272.6674764002 * t);
-        Y1 += 0.00000001282 * Math.cos(3.09230484373 + 10218.8084705184 * t);
-        Y1 += 0.00000001282 * Math.cos(3.25998855005 + 10207.7626219036 * t);
-        Y1 += 0.00000001352 * Math.cos(1.29314419649 + 20419.45754542119 * t);
-        Y1 += 0.00000001469 * Math.cos(4.11460578747 + 3128.3887650958 * t);
-        Y1 += 0.00000001241 * Math.cos(4.14143822683 + 23581.2581773176 * t);
-        Y1 += 0.00000001284 * Math.cos(5.45408487651 + 382.8965322232 * t);
-        Y1 += 0.00000001307 * Math.cos(1.82500475732 + 9153.9036160218 * t);
-        Y1 += 0.00000001191 * Math.cos(3.69515282095 + 2352.8661537718 * t);
-        Y1 += 0.00000001084 * Math.cos(2.78444751991 + 10198.033075026 * t);
-        Y1 += 0.00000001084 * Math.cos(3.56784587387 + 10228.538017396 * t);
-        Y1 += 0.00000001192 * Math.cos(3.38577049275 + 16496.3613962024 * t);
-        Y1 += 0.00000001113 * Math.cos(4.99520755106 + 1589.0728952838 * t);
-        Y1 += 0.00000000917 * Math.cos(5.67300034485 + 15874.6175953632 * t);
-        Y1 += 0.00000000760 * Math.cos(5.36638189114 + 28286.9904848612 * t);
-        Y1 += 0.00000000747 * Math.cos(0.58426038651 + 3149.1641605882 * t);
-        Y1 += 0.00000000795 * Math.cos(3.54160005210 + 426.598190876 * t);
-        Y1 += 0.00000000617 * Math.cos(4.93603196300 + 21535.9496445154 * t);
-        Y1 += 0.00000000625 * Math.cos(1.61452093926 + 20400.2727726222 * t);
-        Y1 += 0.00000000613 * Math.cos(0.59191874324 + 5661.3320491522 * t);
-        Y1 += 0.00000000820 * Math.cos(0.36295378777 + 21228.3920235458 * t);
-        Y1 += 0.00000000650 * Math.cos(0.34096101675 + 536.8045120954 * t);
-        Y1 += 0.00000000674 * Math.cos(0.56550938814 + 8094.5216858326 * t);
-        Y1 += 0.00000000637 * Math.cos(4.96647140484 + 18849.2275499742 * t);
-        Y1 += 0.00000000613 * Math.cos(0.81482028073 + 522.5774180938 * t);
-        Y1 += 0.00000000657 * Math.cos(2.20985602421 + 17298.1823273262 * t);
-        Y1 += 0.00000000512 * Math.cos(4.24771252522 + 529.6909650946 * t);
-        Y1 += 0.00000000510 * Math.cos(5.30981933415 + 20452.8694122218 * t);
-        Y1 += 0.00000000432 * Math.cos(3.60135550460 + 32217.2001810808 * t);
-        Y1 += 0.00000000457 * Math.cos(1.01447998087 + 29050.7837433492 * t);
-        Y1 += 0.00000000414 * Math.cos(3.89598271580 + 24356.7807886416 * t);
-        Y1 += 0.00000000472 * Math.cos(5.35027481275 + 9146.790069021 * t);
-        Y1 += 0.00000000418 * Math.cos(3.35190637416 + 6681.2248533996 * t);
-        Y1 += 0.00000000394 * Math.cos(2.90954841406 + 5507.5532386674 * t);
-        Y1 += 0.00000000364 * Math.cos(1.14500385840 + 10639.883737087 * t);
-        Y1 += 0.00000000360 * Math.cos(5.19238212137 + 9786.687355335 * t);
-        Y1 += 0.00000000361 * Math.cos(2.31869873474 + 14945.3161735544 * t);
-        Y1 += 0.00000000422 * Math.cos(4.94394431892 + 9161.0171630226 * t);
-        Y1 += 0.00000000439 * Math.cos(0.89714640250 + 9690.7081281172 * t);
-        Y1 += 0.00000000425 * Math.cos(5.51224263435 + 20809.4676246452 * t);
-        Y1 += 0.00000000440 * Math.cos(5.44930026371 + 10735.8629643048 * t);
-        Y1 += 0.00000000372 * Math.cos(5.21504043865 + 10251.3132188468 * t);
-        Y1 += 0.00000000372 * Math.cos(1.13725295513 + 10175.2578735752 * t);
-        Y1 += 0.00000000319 * Math.cos(5.77038311559 + 17277.4069318338 * t);
-        Y1 += 0.00000000389 * Math.cos(4.76446577072 + 6283.0758499914 * t);
-        Y1 += 0.00000000412 * Math.cos(4.35484091112 + 22003.9146348698 * t);
-        Y1 += 0.00000000423 * Math.cos(1.39634467087 + 18837.49819713819 * t);
-        Y1 += 0.00000000301 * Math.cos(5.78050751122 + 14765.2390432698 * t);
-        Y1 += 0.00000000351 * Math.cos(0.93761476307 + 6489.776587288 * t);
-        Y1 += 0.00000000297 * Math.cos(5.78070702462 + 10232.95530711079 * t);
-        Y1 += 0.00000000297 * Math.cos(0.57158636916 + 10193.61578531121 * t);
-        Y1 += 0.00000000291 * Math.cos(3.33683517922 + 18073.7049386502 * t);
-        Y1 += 0.00000000287 * Math.cos(0.79492340372 + 3442.5749449654 * t);
-        Y1 += 0.00000000290 * Math.cos(3.01296539996 + 13745.3462390224 * t);
-        Y1 += 0.00000000262 * Math.cos(1.65344723077 + 21202.093703746 * t);
-        Y1 += 0.00000000289 * Math.cos(4.21532853378 + 20235.1228263104 * t);
-        Y1 += 0.00000000269 * Math.cos(6.12924784861 + 9676.4810341156 * t);
-        Y1 += 0.00000000261 * Math.cos(4.05709707087 + 22779.4372461938 * t);
-        Y1 += 0.00000000281 * Math.cos(3.53032805800 + 14919.0178537546 * t);
-        Y1 += 0.00000000262 * Math.cos(0.23413334905 + 10750.0900583064 * t);
-        Y1 += 0.00000000256 * Math.cos(2.84423020029 + 10234.0609417034 * t);
-        Y1 += 0.00000000256 * Math.cos(3.50806319349 + 10192.5101507186 * t);
-        Y1 += 0.00000000238 * Math.cos(2.72262438861 + 9573.388259897 * t);
-        Y1 += 0.00000000284 * Math.cos(1.52451893915 + 4732.0306273434 * t);
-        Y1 += 0.00000000233 * Math.cos(3.85294503850 + 18875.525869774 * t);
-        Y1 += 0.00000000232 * Math.cos(5.81292836693 + 3723.508958923 * t);
-        Y1 += 0.00000000285 * Math.cos(3.95599055369 + 20956.2620575166 * t);
-        Y1 += 0.00000000270 * Math.cos(2.83438706731 + 19999.97290154599 * t);
-        Y1 += 0.00000000225 * Math.cos(2.53611507701 + 14143.4952424306 * t);
-        Y1 += 0.00000000234 * Math.cos(5.59143946418 + 27511.4678735372 * t);
-        Y1 += 0.00000000232 * Math.cos(6.01167605637 + 19889.76658032659 * t);
-        Y1 += 0.00000000199 * Math.cos(5.04355453043 + 9638.9407478762 * t);
-        Y1 += 0.00000000218 * Math.cos(5.53074283644 + 19903.99367432819 * t);
-        Y1 += 0.00000000203 * Math.cos(2.88548150239 + 6872.6731195112 * t);
-        Y1 += 0.00000000234 * Math.cos(1.73310379947 + 1551.045222648 * t);
-        Y1 += 0.00000000188 * Math.cos(1.32418537499 + 10787.6303445458 * t);
-        Y1 += 0.00000000179 * Math.cos(4.84532694620 + 30110.1656735384 * t);
-        Y1 += 0.00000000211 * Math.cos(2.96248499763 + 8662.240323563 * t);
-        Y1 += 0.00000000207 * Math.cos(1.05108863363 + 29864.334027309 * t);
-        Y1 += 0.00000000235 * Math.cos(1.24465087649 + 1066.49547719 * t);
-        Y1 += 0.00000000208 * Math.cos(4.04763155841 + 10007.0999977738 * t);
-        Y1 += 0.00000000208 * Math.cos(2.30466183537 + 10419.4710946482 * t);
-        Y1 += 0.00000000177 * Math.cos(0.78176584307 + 6770.7106012456 * t);
-        Y1 += 0.00000000184 * Math.cos(0.09028640270 + 9967.4538999816 * t);
-        Y1 += 0.00000000163 * Math.cos(3.38894514289 + 10225.014899047 * t);
-        Y1 += 0.00000000163 * Math.cos(2.96334825089 + 10201.556193375 * t);
-        Y1 += 0.00000000157 * Math.cos(2.10855674162 + 9793.8009023358 * t);
-        Y1 += 0.00000000156 * Math.cos(4.49619634182 + 10316.3783204296 * t);
-        Y1 += 0.00000000156 * Math.cos(1.85609705196 + 10110.1927719924 * t);
-        Y1 += 0.00000000160 * Math.cos(5.67144686210 + 16983.9961474566 * t);
-        Y1 += 0.00000000178 * Math.cos(6.26185130623 + 10459.1171924404 * t);
-        Y1 += 0.00000000204 * Math.cos(5.28633538343 + 13936.794505134 * t);
-        Y1 += 0.00000000163 * Math.cos(4.90881626780 + 8617.0991039264 * t);
-        Y1 += 0.00000000170 * Math.cos(1.17359453056 + 213.299095438 * t);
-        Y1 += 0.00000000157 * Math.cos(3.58488866748 + 13553.8979729108 * t);
-        Y1 += 0.00000000151 * Math.cos(3.62024024548 + 639.897286314 * t);
-        Y1 += 0.00000000140 * Math.cos(5.31634257150 + 8631.326197928 * t);
-        Y1 += 0.00000000145 * Math.cos(6.19538998481 + 7064.1213856228 * t);
-        Y1 += 0.00000000128 * Math.cos(3.89903128812 + 10632.7701900862 * t);
-        Y1 += 0.00000000176 * Math.cos(3.03968242278 + 5481.2549188676 * t);
-        Y1 += 0.00000000154 * Math.cos(5.69297164059 + 2118.7638603784 * t);
-        Y1 += 0.00000000143 * Math.cos(3.32004421353 + 7994.5284420242 * t);
-        Y1 += 0.00000000106 * Math.cos(3.32721912157 + 18307.8072320436 * t);
-        Y1 += 0.00000000122 * Math.cos(0.66618818020 + 28521.0927782546 * t);
-        Y1 += 0.00000000098 * Math.cos(3.86407649478 + 20.7753954924 * t);
-        Y1 += 0.00000000104 * Math.cos(4.60450548155 + 36147.4098773004 * t);
-        Y1 += 0.00000000114 * Math.cos(4.33617309197 + 12592.4500197826 * t);
-        Y1 += 0.00000000112 * Math.cos(5.96644557875 + 25934.1243310894 * t);
-        Y1 += 0.00000000100 * Math.cos(1.56966430355 + 1052.2683831884 * t);
-        Y1 += 0.00000000129 * Math.cos(0.19360167861 + 7564.830720738 * t);
-        Y1 += 0.00000000093 * Math.cos(1.72016321457 + 574.3447983348 * t);
-        Y1 += 0.00000000092 * Math.cos(3.49830258795 + 9360.089164459 * t);
-        Y1 += 0.00000000095 * Math.cos(2.09703168525 + 10433.6981886498 * t);
-        Y1 += 0.00000000095 * Math.cos(4.25526170853 + 9992.8729037722 * t);
-        Y1 += 0.00000000117 * Math.cos(3.09675047102 + 12432.0426503978 * t);
-        Y1 += 0.00000000096 * Math.cos(3.75411376182 + 220.4126424388 * t);
-        Y1 += 0.00000000110 * Math.cos(5.01502416629 + 11802.3584414948 * t);
-        Y1 += 0.00000000108 * Math.cos(3.56320379623 + 29580.4747084438 * t);
-        Y1 += 0.00000000093 * Math.cos(4.32292624028 + 2957.7158944766 * t);
-        Y1 += 0.00000000094 * Math.cos(6.19217661869 + 20433.6846394228 * t);
-        Y1 += 0.00000000097 * Math.cos(4.70823534788 + 22805.7355659936 * t);
-        Y1 += 0.00000000084 * Math.cos(4.29266227852 + 206.1855484372 * t);
-        Y1 += 0.00000000077 * Math.cos(2.93440992089 + 10177.2576795336 * t);
-        Y1 += 0.00000000077 * Math.cos(3.41788347289 + 10249.3134128884 * t);
-        Y1 += 0.00000000087 * Math.cos(2.72065485079 + 2379.1644735716 * t);
-        Y1 += 0.00000000080 * Math.cos(4.52003698796 + 19896.8801273274 * t);
-        Y1 += 0.00000000071 * Math.cos(5.88504650520 + 24150.080051345 * t);
-        Y1 += 0.00000000071 * Math.cos(4.97845884396 + 29043.67019634839 * t);
-        Y1 += 0.00000000068 * Math.cos(2.38966490616 + 10383.9584168302 * t);
-        Y1 += 0.00000000068 * Math.cos(3.96262848762 + 10042.6126755918 * t);
-        Y1 += 0.00000000077 * Math.cos(5.37170501434 + 29573.361161443 * t);
-        Y1 += 0.00000000073 * Math.cos(4.93041743859 + 29587.5882554446 * t);
-        Y1 += 0.00000000067 * Math.cos(0.87827389481 + 31441.6775697568 * t);
-        Y1 += 0.00000000061 * Math.cos(5.37334569388 + 29057.89729034999 * t);
-        Y1 += 0.00000000081 * Math.cos(3.17506116360 + 11764.330768859 * t);
-        Y1 += 0.00000000081 * Math.cos(5.09723714696 + 19360.07561523199 * t);
-        Y1 += 0.00000000067 * Math.cos(5.87155987351 + 40077.61957352 * t);
-        Y1 += 0.00000000077 * Math.cos(5.42249781467 + 20213.271996984 * t);
-        Y1 += 0.00000000077 * Math.cos(1.74322642947 + 7834.1210726394 * t);
-        Y1 += 0.00000000058 * Math.cos(6.11200668623 + 110.2063212194 * t);
-        Y1 += 0.00000000060 * Math.cos(4.64344417198 + 30831.3049047446 * t);
-        Y1 += 0.00000000067 * Math.cos(3.14528019429 + 17778.11626694899 * t);
-        Y1 += 0.00000000062 * Math.cos(0.02038792256 + 26735.9452622132 * t);
-        Y1 += 0.00000000054 * Math.cos(3.33030021242 + 19317.1925403286 * t);
-        Y1 += 0.00000000059 * Math.cos(1.67202214793 + 9779.5738083342 * t);
-        Y1 += 0.00000000051 * Math.cos(2.54206679415 + 29088.811415985 * t);
-        Y1 += 0.00000000051 * Math.cos(6.18969950383 + 27490.6924780448 * t);
-        Y1 += 0.00000000050 * Math.cos(0.18460290148 + 10103.0792249916 * t);
-        Y1 += 0.00000000050 * Math.cos(6.16769049230 + 10323.4918674304 * t);
-        Y1 += 0.00000000050 * Math.cos(4.63967914172 + 39793.7602546548 * t);
-        Y1 += 0.00000000059 * Math.cos(4.81241059013 + 2218.7571041868 * t);
-        Y1 += 0.00000000047 * Math.cos(2.05343620014 + 20639.87018786 * t);
-        Y1 += 0.00000000046 * Math.cos(2.74639399772 + 19786.67380610799 * t);
-        Y1 += 0.00000000047 * Math.cos(4.18910494546 + 57837.1383323006 * t);
-        Y1 += 0.00000000049 * Math.cos(5.28696888326 + 26709.6469424134 * t);
-        Y1 += 0.00000000044 * Math.cos(2.82427089648 + 29999.959352319 * t);
-        Y1 += 0.00000000044 * Math.cos(3.83988514830 + 33019.0211122046 * t);
-        Y1 += 0.00000000044 * Math.cos(5.38579680438 + 16522.6597160022 * t);
-        Y1 += 0.00000000043 * Math.cos(3.56791317771 + 29786.660256881 * t);
-        Y1 += 0.00000000051 * Math.cos(0.93431467650 + 44007.8292697396 * t);
-        Y1 += 0.00000000051 * Math.cos(6.00716095198 + 13341.6743113068 * t);
-        Y1 += 0.00000000051 * Math.cos(5.84065348173 + 13655.8604911764 * t);
-        Y1 += 0.00000000039 * Math.cos(4.20765456607 + 20447.3464879144 * t);
-        Y1 += 0.00000000049 * Math.cos(1.86400601956 + 25158.6017197654 * t);
-        Y1 += 0.00000000042 * Math.cos(3.20675553761 + 38204.687359371 * t);
-        Y1 += 0.00000000041 * Math.cos(2.07859666220 + 3914.9572250346 * t);
-        Y1 += 0.00000000035 * Math.cos(5.19408052685 + 36949.2308084242 * t);
-        Y1 += 0.00000000036 * Math.cos(4.38221463656 + 10077.660221201 * t);
-        Y1 += 0.00000000036 * Math.cos(1.97007875722 + 10348.910871221 * t);
-        Y1 += 0.00000000041 * Math.cos(0.04248316951 + 27991.40181316 * t);
-        Y1 += 0.00000000039 * Math.cos(1.66722657698 + 18830.38465013739 * t);
-        Y1 += 0.00000000039 * Math.cos(1.44095509312 + 30666.1549584328 * t);
-        Y1 += 0.00000000039 * Math.cos(1.17630403927 + 18844.61174413899 * t);
-        Y1 += 0.00000000037 * Math.cos(4.90257598448 + 19374.3027092336 * t);
-        Y1 += 0.00000000032 * Math.cos(1.54363874459 + 17468.8551979454 * t);
-        Y1 += 0.00000000037 * Math.cos(5.13021678677 + 49515.382508407 * t);
-        Y1 += 0.00000000040 * Math.cos(2.31585340283 + 47938.0389659592 * t);
-        Y1 += 0.00000000032 * Math.cos(3.92861114802 + 16894.5103996106 * t);
-        Y1 += 0.00000000042 * Math.cos(5.08244679686 + 55798.4583583984 * t);
-        Y1 += 0.00000000031 * Math.cos(1.66877830319 + 21000.9158907568 * t);
-        Y1 += 0.00000000031 * Math.cos(1.94569247568 + 20043.6745601988 * t);
-        Y1 += 0.00000000033 * Math.cos(6.15577840084 + 48417.97290558199 * t);
-        Y1 += 0.00000000034 * Math.cos(0.55952854816 + 54247.4131357504 * t);
-        Y1 += 0.00000000032 * Math.cos(0.55000852758 + 10191.4347168846 * t);
-        Y1 += 0.00000000032 * Math.cos(5.80228486620 + 10235.1363755374 * t);
-        Y1 += 0.00000000031 * Math.cos(4.45837229281 + 8087.4081388318 * t);
-        Y1 += 0.00000000030 * Math.cos(0.39582329080 + 10853.182832525 * t);
-        Y1 += 0.00000000033 * Math.cos(2.51511900155 + 7255.5696517344 * t);
-        Y1 += 0.00000000029 * Math.cos(3.64083349524 + 10290.959316639 * t);
-        Y1 += 0.00000000029 * Math.cos(2.71145989854 + 10135.611775783 * t);
-        Y1 += 0.00000000028 * Math.cos(4.16989490843 + 104351.61256629678 * t);
-        Y1 += 0.00000000028 * Math.cos(0.27992982935 + 40879.4405046438 * t);
-        Y1 += 0.00000000032 * Math.cos(2.59502959120 + 20206.15844998319 * t);
-        Y1 += 0.00000000032 * Math.cos(0.89449566883 + 66813.5648357332 * t);
-        Y1 += 0.00000000032 * Math.cos(3.80176203654 + 9835.9119382952 * t);
-        Y1 += 0.00000000032 * Math.cos(2.55053135724 + 10590.6591541268 * t);
-        Y1 += 0.00000000027 * Math.cos(4.68213586027 + 6298.3283211764 * t);
-        Y1 += 0.00000000035 * Math.cos(3.77990327166 + 9985.809413422 * t);
-        Y1 += 0.00000000035 * Math.cos(2.57239012212 + 10440.76167900 * t);
-        Y1 += 0.00000000026 * Math.cos(3.20523902336 + 34363.365597556 * t);
-        Y1 += 0.00000000032 * Math.cos(5.77908535567 + 11265.5539293994 * t);
-        Y1 += 0.00000000029 * Math.cos(1.74099609995 + 30206.14490075619 * t);
-        Y1 += 0.00000000032 * Math.cos(3.71438295524 + 51868.2486621788 * t);
-        Y1 += 0.00000000025 * Math.cos(2.53077774895 + 3532.0606928114 * t);
-        Y1 += 0.00000000033 * Math.cos(0.22007720629 + 59728.668054618 * t);
-        Y1 += 0.00000000029 * Math.cos(2.13149426586 + 20220.3855439848 * t);
-        Y1 += 0.00000000024 * Math.cos(1.14570150294 + 8734.4189721466 * t);
-        Y1 += 0.00000000028 * Math.cos(5.75151342282 + 62883.3551395136 * t);
-        Y1 += 0.00000000024 * Math.cos(2.78432068759 + 36173.7081971002 * t);
-        Y1 += 0.00000000024 * Math.cos(2.85202212155 + 31022.7531708562 * t);
-        Y1 += 0.00000000024 * Math.cos(1.83048948732 + 24383.0791084414 * t);
-        Y1 += 0.00000000027 * Math.cos(1.25677560111 + 30220.3719947578 * t);
-        Y1 += 0.00000000023 * Math.cos(1.14068817117 + 10367.0643566958 * t);
-        Y1 += 0.00000000023 * Math.cos(5.21160522261 + 10059.5067357262 * t);
-        Y1 += 0.00000000026 * Math.cos(1.22668255838 + 39271.182836561 * t);
-        Y1 += 0.00000000026 * Math.cos(1.70916432914 + 39256.95574255939 * t);
-        Y1 += 0.00000000023 * Math.cos(1.65963740543 + 44809.6502008634 * t);
-        Y1 += 0.00000000024 * Math.cos(1.93436586234 + 14128.2427712456 * t);
-        Y1 += 0.00000000026 * Math.cos(5.25543048954 + 8101.6352328334 * t);
-        Y1 += 0.00000000022 * Math.cos(1.35770769295 + 24978.5245894808 * t);
-        Y1 += 0.00000000025 * Math.cos(4.35755866572 + 52175.8062831484 * t);
-        Y1 += 0.00000000030 * Math.cos(5.92769775641 + 17248.4253018544 * t);
-        Y1 += 0.00000000022 * Math.cos(2.63350741660 + 43071.8992890308 * t);
-        Y1 += 0.00000000024 * Math.cos(2.87771905446 + 34596.3646546524 * t);
-        Y1 += 0.00000000022 * Math.cos(0.18339358050 + 30426.557543195 * t);
-        Y1 += 0.00000000024 * Math.cos(5.00394819251 + 47623.8527860896 * t);
-        Y1 += 0.00000000023 * Math.cos(2.48673782346 + 27461.7108480654 * t);
-        Y1 += 0.00000000024 * Math.cos(2.31573395875 + 70743.77453195279 * t);
-        Y1 += 0.00000000022 * Math.cos(2.50653771933 + 9566.2747128962 * t);
-        Y1 += 0.00000000023 * Math.cos(4.03659045702 + 6309.3741697912 * t);
-        Y1 += 0.00000000021 * Math.cos(0.48695657465 + 10949.1620597428 * t);
-        Y1 += 0.00000000021 * Math.cos(5.86533681913 + 9477.4090326792 * t);
-        Y1 += 0.00000000024 * Math.cos(5.27936669763 + 10288.0671447783 * t);
-        Y1 += 0.00000000024 * Math.cos(1.07292669615 + 10138.5039476437 * t);
-        Y1 += 0.00000000027 * Math.cos(2.11906192246 + 9580.5018068978 * t);
-        Y1 += 0.00000000020 * Math.cos(0.64178978255 + 11279.781023401 * t);
-        Y1 += 0.00000000023 * Math.cos(1.10446661612 + 10263.0425716828 * t);
-        Y1 += 0.00000000023 * Math.cos(5.24782677766 + 10163.5285207392 * t);
-        Y1 += 0.00000000022 * Math.cos(0.81492467590 + 46386.9937433112 * t);
-        Y1 += 0.00000000020 * Math.cos(1.20516011145 + 18300.69368504279 * t);
-        Y1 += 0.00000000026 * Math.cos(1.64244752119 + 63658.8777508376 * t);
-        Y1 += 0.00000000019 * Math.cos(0.23803378346 + 20316.36477120259 * t);
-        Y1 += 0.00000000020 * Math.cos(5.63439724563 + 62081.5342083898 * t);
-        Y1 += 0.00000000020 * Math.cos(1.13738100407 + 49477.35483577119 * t);
-        Y1 += 0.00000000018 * Math.cos(3.04721004004 + 48739.859897083 * t);
-        Y1 += 0.00000000018 * Math.cos(0.69437828159 + 9050.8108418032 * t);
-        Y1 += 0.00000000017 * Math.cos(3.19845935674 + 28313.288804661 * t);
-        Y1 += 0.00000000017 * Math.cos(2.89862116564 + 10497.1448650762 * t);
-        Y1 += 0.00000000017 * Math.cos(3.45367222814 + 9929.4262273458 * t);
-        Y1 += 0.00000000017 * Math.cos(1.80554865966 + 24341.5283174566 * t);
-        Y1 += 0.00000000017 * Math.cos(3.41082764288 + 38734.3783244656 * t);
-        Y1 += 0.00000000017 * Math.cos(5.48500145482 + 19624.7501612982 * t);
-        Y1 += 0.00000000017 * Math.cos(1.42397530088 + 18314.9207790444 * t);
-        Y1 += 0.00000000018 * Math.cos(4.74133155662 + 42430.4857272918 * t);
-        Y1 += 0.00000000016 * Math.cos(3.86440292184 + 9745.3205558566 * t);
-        Y1 += 0.00000000016 * Math.cos(2.48789047194 + 10681.2505365654 * t);
-        Y1 += 0.00000000015 * Math.cos(3.83207526863 + 10199.0584522094 * t);
-        Y1 += 0.00000000015 * Math.cos(2.52021812515 + 10227.5126402126 * t);
-        Y1 += 0.00000000019 * Math.cos(5.68038426151 + 55022.9357470744 * t);
-        Y1 += 0.00000000015 * Math.cos(5.64700993390 + 27197.2816936676 * t);
-        Y1 += 0.00000000014 * Math.cos(5.96767163228 + 41654.9631159678 * t);
-        Y1 += 0.00000000015 * Math.cos(1.13326219925 + 53285.1848352418 * t);
-        Y1 += 0.00000000015 * Math.cos(0.77488131034 + 66011.74390460939 * t);
-        Y1 += 0.00000000015 * Math.cos(1.26648472710 + 38727.2647774648 * t);
-        Y1 += 0.00000000015 * Math.cos(6.23108278461 + 46360.6954235114 * t);
-        Y1 += 0.00000000016 * Math.cos(5.66380096786 + 42456.7840470916 * t);
-        Y1 += 0.00000000019 * Math.cos(3.03299422296 + 67589.08744705719 * t);
-        Y1 += 0.00000000014 * Math.cos(5.08678738606 + 39999.945803092 * t);
-        Y1 += 0.00000000014 * Math.cos(6.23973256044 + 11026.8358301708 * t);
-        Y1 += 0.00000000014 * Math.cos(0.11256083334 + 9399.7352622512 * t);
-        Y1 += 0.00000000015 * Math.cos(4.29556829645 + 38526.574350872 * t);
-        Y1 += 0.00000000016 * Math.cos(2.23316987672 + 50317.2034395308 * t);
-        Y1 += 0.00000000014 * Math.cos(6.10752868717 + 37895.4262903674 * t);
-        Y1 += 0.00000000014 * Math.cos(6.16126093965 + 37410.5672398786 * t);
-        Y1 += 0.00000000014 * Math.cos(1.37134390822 + 50290.905119731 * t);
-        Y1 += 0.00000000015 * Math.cos(4.65282324499 + 21485.95302261119 * t);
-        Y1 += 0.00000000013 * Math.cos(4.57052023792 + 52670.0695933026 * t);
-        Y1 += 0.00000000013 * Math.cos(4.57568246165 + 32243.4985008806 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 99 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 -= 0.00002007155;
-        Y2 += 0.00000702052 * Math.cos(3.52724964753 + 20426.571092422 * t);
-        Y2 += 0.00000265709 * Math.cos(4.68091836985 + 10213.285546211 * t);
-        Y2 += 0.00000011646 * Math.cos(3.93744761819 + 30639.856638633 * t);
-        Y2 += 0.00000008639 * Math.cos(1.13135823620 + 10186.9872264112 * t);
-        Y2 += 0.00000008604 * Math.cos(5.22297159997 + 10239.5838660108 * t);
-        Y2 += 0.00000003811 * Math.cos(5.48798160948 + 9437.762934887 * t);
-        Y2 += 0.00000002807 * Math.cos(1.65676292385 + 8635.9420037632 * t);
-        Y2 += 0.00000003369 * Math.cos(0.86189885486 + 10988.808157535 * t);
-        Y2 += 0.00000002200 * Math.cos(2.17699710464 + 10021.8372800994 * t);
-        Y2 += 0.00000002289 * Math.cos(4.69814874247 + 11790.6290886588 * t);
-        Y2 += 0.00000002148 * Math.cos(4.17521761989 + 10404.7338123226 * t);
-        Y2 += 0.00000001696 * Math.cos(5.08313144954 + 775.522611324 * t);
-        Y2 += 0.00000000716 * Math.cos(6.06671484212 + 9830.3890139878 * t);
-        Y2 += 0.00000000644 * Math.cos(0.22734493457 + 4705.7323075436 * t);
-        Y2 += 0.00000000682 * Math.cos(0.28558057356 + 10596.1820784342 * t);
-        Y2 += 0.00000000594 * Math.cos(1.23861380027 + 19651.048481098 * t);
-        Y2 += 0.00000000554 * Math.cos(4.44452698973 + 191.4482661116 * t);
-        Y2 += 0.00000000528 * Math.cos(3.41861650599 + 9683.5945811164 * t);
-        Y2 += 0.00000000527 * Math.cos(2.94644114647 + 10742.9765113056 * t);
-        Y2 += 0.00000000566 * Math.cos(0.35292137179 + 801.8209311238 * t);
-        Y2 += 0.00000000525 * Math.cos(5.72227596543 + 7058.5984613154 * t);
-        Y2 += 0.00000000328 * Math.cos(6.11646091965 + 15720.8387848784 * t);
-        Y2 += 0.00000000358 * Math.cos(2.02954020915 + 11015.1064773348 * t);
-        Y2 += 0.00000000286 * Math.cos(1.68423535567 + 9103.9069941176 * t);
-        Y2 += 0.00000000362 * Math.cos(4.34706999662 + 9411.4646150872 * t);
-        Y2 += 0.00000000299 * Math.cos(3.84462203798 + 26.2983197998 * t);
-        Y2 += 0.00000000359 * Math.cos(0.61996179973 + 13367.9726311066 * t);
-        Y2 += 0.00000000250 * Math.cos(4.66823756637 + 11322.6640983044 * t);
-        Y2 += 0.00000000239 * Math.cos(5.77307549832 + 3154.6870848956 * t);
-        Y2 += 0.00000000301 * Math.cos(4.25962414255 + 3128.3887650958 * t);
-        Y2 += 0.00000000191 * Math.cos(2.03616386440 + 1059.3819301892 * t);
-        Y2 += 0.00000000190 * Math.cos(0.21249868991 + 10426.584641649 * t);
-        Y2 += 0.00000000190 * Math.cos(6.13979470387 + 9999.986450773 * t);
-        Y2 += 0.00000000192 * Math.cos(4.62315723240 + 20618.0193585336 * t);
-        Y2 += 0.00000000179 * Math.cos(0.42909787895 + 21228.3920235458 * t);
-        Y2 += 0.00000000156 * Math.cos(4.63001323046 + 40853.142184844 * t);
-        Y2 += 0.00000000162 * Math.cos(0.68333343155 + 382.8965322232 * t);
-        Y2 += 0.00000000125 * Math.cos(1.07117378709 + 18849.2275499742 * t);
-        Y2 += 0.00000000142 * Math.cos(5.97606134065 + 1577.3435424478 * t);
-        Y2 += 0.00000000110 * Math.cos(2.14128325211 + 8624.2126509272 * t);
-        Y2 += 0.00000000141 * Math.cos(2.93513683988 + 7860.4193924392 * t);
-        Y2 += 0.00000000109 * Math.cos(4.55956211819 + 2352.8661537718 * t);
-        Y2 += 0.00000000134 * Math.cos(2.07232763439 + 17298.1823273262 * t);
-        Y2 += 0.00000000115 * Math.cos(4.27710770643 + 20452.8694122218 * t);
-        Y2 += 0.00000000076 * Math.cos(0.89056324144 + 7084.8967811152 * t);
-        Y2 += 0.00000000071 * Math.cos(5.87255690826 + 23581.2581773176 * t);
-        Y2 += 0.00000000064 * Math.cos(4.23014249947 + 19367.1891622328 * t);
-        Y2 += 0.00000000063 * Math.cos(0.19465269649 + 1109.3785520934 * t);
-        Y2 += 0.00000000074 * Math.cos(1.59098773305 + 16496.3613962024 * t);
-        Y2 += 0.00000000061 * Math.cos(2.45374361751 + 9153.9036160218 * t);
-        Y2 += 0.00000000063 * Math.cos(2.58253929093 + 18073.7049386502 * t);
-        Y2 += 0.00000000054 * Math.cos(0.79386600924 + 20809.4676246452 * t);
-        Y2 += 0.00000000043 * Math.cos(2.21625350053 + 29050.7837433492 * t);
-        Y2 += 0.00000000055 * Math.cos(1.81114570337 + 4732.0306273434 * t);
-        Y2 += 0.00000000043 * Math.cos(1.72253634885 + 8094.5216858326 * t);
-        Y2 += 0.00000000049 * Math.cos(4.77430806005 + 3930.2096962196 * t);
-        Y2 += 0.00000000044 * Math.cos(3.53454344950 + 9638.9407478762 * t);
-        Y2 += 0.00000000044 * Math.cos(2.81774994428 + 10787.6303445458 * t);
-        Y2 += 0.00000000046 * Math.cos(0.97289096935 + 22003.9146348698 * t);
-        Y2 += 0.00000000039 * Math.cos(0.53727814725 + 6283.0758499914 * t);
-        Y2 += 0.00000000043 * Math.cos(3.41770981695 + 12566.1516999828 * t);
-        Y2 += 0.00000000033 * Math.cos(5.75412898458 + 14919.0178537546 * t);
-        Y2 += 0.00000000037 * Math.cos(3.04751770033 + 8662.240323563 * t);
-        Y2 += 0.00000000028 * Math.cos(2.28310684992 + 20235.1228263104 * t);
-        Y2 += 0.00000000033 * Math.cos(5.70769321932 + 6489.776587288 * t);
-        Y2 += 0.00000000027 * Math.cos(5.52864193077 + 10639.883737087 * t);
-        Y2 += 0.00000000027 * Math.cos(0.82365146301 + 9786.687355335 * t);
-        Y2 += 0.00000000029 * Math.cos(3.29953382621 + 28286.9904848612 * t);
-        Y2 += 0.00000000030 * Math.cos(1.80392203545 + 24356.7807886416 * t);
-        Y2 += 0.00000000026 * Math.cos(5.34455326161 + 3149.1641605882 * t);
-        Y2 += 0.00000000027 * Math.cos(0.29620716954 + 14143.4952424306 * t);
-        Y2 += 0.00000000030 * Math.cos(2.30925665899 + 20400.2727726222 * t);
-        Y2 += 0.00000000026 * Math.cos(2.03778959040 + 18875.525869774 * t);
-        Y2 += 0.00000000024 * Math.cos(3.73809869847 + 11272.6674764002 * t);
-        Y2 += 0.00000000024 * Math.cos(1.05266162760 + 27511.4678735372 * t);
-        Y2 += 0.00000000024 * Math.cos(0.28968474189 + 21535.9496445154 * t);
-        Y2 += 0.00000000022 * Math.cos(1.57206710017 + 18307.8072320436 * t);
-        Y2 += 0.00000000025 * Math.cos(4.18795706116 + 5507.5532386674 * t);
-        Y2 += 0.00000000023 * Math.cos(0.64543351157 + 13936.794505134 * t);
-        Y2 += 0.00000000018 * Math.cos(1.79009115313 + 28521.0927782546 * t);
-        Y2 += 0.00000000014 * Math.cos(1.62650115265 + 21202.093703746 * t);
-        Y2 += 0.00000000014 * Math.cos(1.00989513563 + 17277.4069318338 * t);
-        Y2 += 0.00000000014 * Math.cos(3.69383400063 + 11764.330768859 * t);
-        Y2 += 0.00000000016 * Math.cos(1.34949765828 + 32217.2001810808 * t);
-        Y2 += 0.00000000013 * Math.cos(0.36409212654 + 34570.0663348526 * t);
-        Y2 += 0.00000000013 * Math.cos(5.39780269855 + 22779.4372461938 * t);
-        Y2 += 0.00000000011 * Math.cos(3.20491922374 + 25934.1243310894 * t);
-        Y2 += 0.00000000012 * Math.cos(2.32661613460 + 31441.6775697568 * t);
-        Y2 += 0.00000000015 * Math.cos(2.03363077483 + 29580.4747084438 * t);
-        Y2 += 0.00000000012 * Math.cos(1.93485474982 + 25158.6017197654 * t);
-        Y2 += 0.00000000010 * Math.cos(3.93946468852 + 14945.3161735544 * t);
-        Y2 += 0.00000000009 * Math.cos(1.78868782927 + 38500.2760310722 * t);
-        Y2 += 0.00000000009 * Math.cos(3.39001858921 + 29088.811415985 * t);
-        Y2 += 0.00000000007 * Math.cos(3.45037167055 + 22805.7355659936 * t);
-        Y2 += 0.00000000007 * Math.cos(0.37787568636 + 43232.3066584156 * t);
-        Y2 += 0.00000000007 * Math.cos(1.23251889653 + 9573.388259897 * t);
-        Y2 += 0.00000000007 * Math.cos(4.44320821952 + 29999.959352319 * t);
-        Y2 += 0.00000000007 * Math.cos(1.83420571334 + 30110.1656735384 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 5 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00000022966 * Math.cos(0.38709241285 + 10213.285546211 * t);
-        Y3 += 0.00000024860 * Math.cos(1.68572825734 + 20426.571092422 * t);
-        Y3 -= 0.00000003743;
-        Y3 += 0.00000000623 * Math.cos(1.67630174215 + 30639.856638633 * t);
-        Y3 += 0.00000000009 * Math.cos(2.15288290431 + 40853.142184844 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 4 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000000801 * Math.cos(2.03074942043 + 10213.285546211 * t);
-        Y4 += 0.00000000690;
-        Y4 += 0.00000000286 * Math.cos(5.64884337944 + 20426.571092422 * t);
-        Y4 += 0.00000000030 * Math.cos(5.69980612910 + 30639.856638633 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 3 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000029 * Math.cos(3.51424873779 + 10213.285546211 * t);
-        Y5 += 0.00000000022 * Math.cos(5.05580482246 + 20426.571092422 * t);
-        Y5 += 0.00000000018;
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 190 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.04282990302 * Math.cos(0.26703856476 + 10213.285546211 * t);
-        Z0 -= 0.00035588343;
-        Z0 += 0.00014501879 * Math.cos(1.14696911390 + 20426.571092422 * t);
-        Z0 += 0.00000140675 * Math.cos(0.85984113219 + 1577.3435424478 * t);
-        Z0 += 0.00000134921 * Math.cos(3.70465787853 + 2352.8661537718 * t);
-        Z0 += 0.00000095750 * Math.cos(3.66962547073 + 9437.762934887 * t);
-        Z0 += 0.00000072910 * Math.cos(1.55750278240 + 9153.9036160218 * t);
-        Z0 += 0.00000073654 * Math.cos(2.02778434780 + 30639.856638633 * t);
-        Z0 += 0.00000059714 * Math.cos(6.25390371649 + 18073.7049386502 * t);
-        Z0 += 0.00000045307 * Math.cos(2.28075620268 + 5507.5532386674 * t);
-        Z0 += 0.00000043023 * Math.cos(3.95620233472 + 529.6909650946 * t);
-        Z0 += 0.00000037415 * Math.cos(4.53900359933 + 22003.9146348698 * t);
-        Z0 += 0.00000032943 * Math.cos(0.72316171903 + 10239.5838660108 * t);
-        Z0 += 0.00000028156 * Math.cos(2.93415727239 + 10186.9872264112 * t);
-        Z0 += 0.00000032447 * Math.cos(3.86196252330 + 8635.9420037632 * t);
-        Z0 += 0.00000027853 * Math.cos(6.12790511758 + 11790.6290886588 * t);
-        Z0 += 0.00000023013 * Math.cos(0.98699428893 + 775.522611324 * t);
-        Z0 += 0.00000019425 * Math.cos(5.12759462747 + 6283.0758499914 * t);
-        Z0 += 0.00000016289 * Math.cos(2.90852685195 + 10988.808157535 * t);
-        Z0 += 0.00000015382 * Math.cos(5.98588709813 + 19896.8801273274 * t);
-        Z0 += 0.00000015507 * Math.cos(2.00401259454 + 13367.9726311066 * t);
-        Z0 += 0.00000012412 * Math.cos(4.13644030917 + 10021.8372800994 * t);
-        Z0 += 0.00000013004 * Math.cos(4.83195492470 + 14143.4952424306 * t);
-        Z0 += 0.00000010730 * Math.cos(5.61235409382 + 10404.7338123226 * t);
-        Z0 += 0.00000010336 * Math.cos(2.75167531541 + 191.4482661116 * t);
-        Z0 += 0.00000010848 * Math.cos(3.29419910254 + 11015.1064773348 * t);
-        Z0 += 0.00000009775 * Math.cos(1.21418881204 + 8624.2126509272 * t);
-        Z0 += 0.00000010158 * Math.cos(5.71954183827 + 9683.5945811164 * t);
-        Z0 += 0.00000008080 * Math.cos(2.69831049093 + 19651.048481098 * t);
-        Z0 += 0.00000008209 * Math.cos(3.55371021890 + 10742.9765113056 * t);
-        Z0 += 0.00000006416 * Math.cos(0.46264840234 + 9786.687355335 * t);
-        Z0 += 0.00000006429 * Math.cos(4.91481073656 + 1059.3819301892 * t);
-        Z0 += 0.00000006722 * Math.cos(2.41848486045 + 4705.7323075436 * t);
-        Z0 += 0.00000005903 * Math.cos(5.96215831403 + 25934.1243310894 * t);
-        Z0 += 0.00000005647 * Math.cos(3.57594715836 + 3154.6870848956 * t);
-        Z0 += 0.00000004044 * Math.cos(6.24650537722 + 11322.6640983044 * t);
-        Z0 += 0.00000004033 * Math.cos(3.42887820794 + 9103.9069941176 * t);
-        Z0 += 0.00000004210 * Math.cos(4.99232132925 + 7084.8967811152 * t);
-        Z0 += 0.00000004135 * Math.cos(3.43782832503 + 17298.1823273262 * t);
-        Z0 += 0.00000003747 * Math.cos(1.30318722019 + 15720.8387848784 * t);
-        Z0 += 0.00000003417 * Math.cos(3.95474989164 + 7860.4193924392 * t);
-        Z0 += 0.00000003440 * Math.cos(0.77140273510 + 4551.9534970588 * t);
-        Z0 += 0.00000003488 * Math.cos(0.14633368219 + 20618.0193585336 * t);
-        Z0 += 0.00000002851 * Math.cos(5.68591706153 + 10206.1719992102 * t);
-        Z0 += 0.00000002750 * Math.cos(3.89497095361 + 10192.5101507186 * t);
-        Z0 += 0.00000002734 * Math.cos(5.62996472233 + 12566.1516999828 * t);
-        Z0 += 0.00000002682 * Math.cos(4.58018033496 + 801.8209311238 * t);
-        Z0 += 0.00000002743 * Math.cos(6.06387494803 + 10234.0609417034 * t);
-        Z0 += 0.00000002832 * Math.cos(4.24241233220 + 213.299095438 * t);
-        Z0 += 0.00000002756 * Math.cos(5.43236957664 + 29580.4747084438 * t);
-        Z0 += 0.00000002155 * Math.cos(0.29731467355 + 9411.4646150872 * t);
-        Z0 += 0.00000002403 * Math.cos(4.90533210845 + 19367.1891622328 * t);
-        Z0 += 0.00000002103 * Math.cos(1.12514771936 + 29864.334027309 * t);
-        Z0 += 0.00000001632 * Math.cos(4.67123397256 + 1109.3785520934 * t);
-        Z0 += 0.00000001787 * Math.cos(2.52506338741 + 15874.6175953632 * t);
-        Z0 += 0.00000001613 * Math.cos(1.47525165805 + 7058.5984613154 * t);
-        Z0 += 0.00000001598 * Math.cos(2.21757389250 + 10426.584641649 * t);
-        Z0 += 0.00000001154 * Math.cos(1.98818396175 + 26.2983197998 * t);
-        Z0 += 0.00000001132 * Math.cos(5.38517603552 + 7.1135470008 * t);
-        Z0 += 0.00000001468 * Math.cos(0.75541488791 + 9999.986450773 * t);
-        Z0 += 0.00000001118 * Math.cos(0.96571599573 + 23581.2581773176 * t);
-        Z0 += 0.00000001210 * Math.cos(3.17717646354 + 3532.0606928114 * t);
-        Z0 += 0.00000000965 * Math.cos(0.01161931809 + 3128.3887650958 * t);
-        Z0 += 0.00000001027 * Math.cos(2.51592691800 + 33794.5437235286 * t);
-        Z0 += 0.00000000847 * Math.cos(1.24888706950 + 9573.388259897 * t);
-        Z0 += 0.00000000889 * Math.cos(1.48214942791 + 9830.3890139878 * t);
-        Z0 += 0.00000000953 * Math.cos(5.73118460251 + 20213.271996984 * t);
-        Z0 += 0.00000000987 * Math.cos(4.70495944427 + 14945.3161735544 * t);
-        Z0 += 0.00000001030 * Math.cos(0.84929643011 + 8094.5216858326 * t);
-        Z0 += 0.00000000770 * Math.cos(4.54196353475 + 21228.3920235458 * t);
-        Z0 += 0.00000000778 * Math.cos(1.16378510983 + 8662.240323563 * t);
-        Z0 += 0.00000000860 * Math.cos(5.74281955136 + 5661.3320491522 * t);
-        Z0 += 0.00000000670 * Math.cos(5.36864204589 + 1589.0728952838 * t);
-        Z0 += 0.00000000615 * Math.cos(1.96289781619 + 26087.9031415742 * t);
-        Z0 += 0.00000000740 * Math.cos(1.97614280765 + 10596.1820784342 * t);
-        Z0 += 0.00000000606 * Math.cos(6.22070159607 + 25158.6017197654 * t);
-        Z0 += 0.00000000533 * Math.cos(0.73765107493 + 28286.9904848612 * t);
-        Z0 += 0.00000000547 * Math.cos(5.06653964506 + 29050.7837433492 * t);
-        Z0 += 0.00000000592 * Math.cos(3.32632513186 + 3340.6124266998 * t);
-        Z0 += 0.00000000591 * Math.cos(4.62374022159 + 9929.4262273458 * t);
-        Z0 += 0.00000000537 * Math.cos(6.00327539255 + 4732.0306273434 * t);
-        Z0 += 0.00000000569 * Math.cos(5.37276655331 + 10497.1448650762 * t);
-        Z0 += 0.00000000520 * Math.cos(6.11596800207 + 10218.8084705184 * t);
-        Z0 += 0.00000000542 * Math.cos(3.94171539558 + 37724.7534197482 * t);
-        Z0 += 0.00000000575 * Math.cos(2.29073875885 + 21535.9496445154 * t);
-        Z0 += 0.00000000437 * Math.cos(2.42330391120 + 10251.3132188468 * t);
-        Z0 += 0.00000000439 * Math.cos(2.90237828484 + 40853.142184844 * t);
-        Z0 += 0.00000000459 * Math.cos(1.69153061401 + 3930.2096962196 * t);
-        Z0 += 0.00000000405 * Math.cos(1.42927875873 + 9161.0171630226 * t);
-        Z0 += 0.00000000418 * Math.cos(5.48110803243 + 32217.2001810808 * t);
-        Z0 += 0.00000000521 * Math.cos(3.84286345199 + 10207.7626219036 * t);
-        Z0 += 0.00000000457 * Math.cos(6.16974742379 + 10220.3990932118 * t);
-        Z0 += 0.00000000440 * Math.cos(1.25236241968 + 10175.2578735752 * t);
-        Z0 += 0.00000000394 * Math.cos(4.81650684498 + 9146.790069021 * t);
-        Z0 += 0.00000000362 * Math.cos(0.02259543121 + 14765.2390432698 * t);
-        Z0 += 0.00000000396 * Math.cos(4.56209231282 + 10063.7223490764 * t);
-        Z0 += 0.00000000407 * Math.cos(6.15731262846 + 18875.525869774 * t);
-        Z0 += 0.00000000349 * Math.cos(5.78507522549 + 12592.4500197826 * t);
-        Z0 += 0.00000000379 * Math.cos(4.56511543982 + 20419.45754542119 * t);
-        Z0 += 0.00000000314 * Math.cos(5.08259050420 + 18837.49819713819 * t);
-        Z0 += 0.00000000343 * Math.cos(2.36516734231 + 27511.4678735372 * t);
-        Z0 += 0.00000000292 * Math.cos(3.76618455555 + 6681.2248533996 * t);
-        Z0 += 0.00000000289 * Math.cos(3.59841384736 + 11272.6674764002 * t);
-        Z0 += 0.00000000314 * Math.cos(5.23220905264 + 426.598190876 * t);
-        Z0 += 0.00000000301 * Math.cos(4.24971815099 + 14919.0178537546 * t);
-        Z0 += 0.00000000322 * Math.cos(1.36846420067 + 29088.811415985 * t);
-        Z0 += 0.00000000292 * Math.cos(0.74997511570 + 3149.1641605882 * t);
-        Z0 += 0.00000000306 * Math.cos(0.47092243462 + 23958.6317852334 * t);
-        Z0 += 0.00000000254 * Math.cos(4.34026574490 + 10137.0194749354 * t);
-        Z0 += 0.00000000304 * Math.cos(5.33181632059 + 41654.9631159678 * t);
-        Z0 += 0.00000000264 * Math.cos(0.01153452145 + 20452.8694122218 * t);
-        Z0 += 0.00000000334 * Math.cos(5.28920083729 + 382.8965322232 * t);
-        Z0 += 0.00000000236 * Math.cos(1.03442196051 + 22779.4372461938 * t);
-        Z0 += 0.00000000250 * Math.cos(5.05395469123 + 24356.7807886416 * t);
-        Z0 += 0.00000000278 * Math.cos(0.10022232617 + 16496.3613962024 * t);
-        Z0 += 0.00000000232 * Math.cos(0.48064662619 + 17085.9586657222 * t);
-        Z0 += 0.00000000205 * Math.cos(6.19639409918 + 7064.1213856228 * t);
-        Z0 += 0.00000000197 * Math.cos(3.71380377240 + 1551.045222648 * t);
-        Z0 += 0.00000000200 * Math.cos(4.06516779510 + 18849.2275499742 * t);
-        Z0 += 0.00000000170 * Math.cos(5.96522395118 + 10198.033075026 * t);
-        Z0 += 0.00000000170 * Math.cos(3.52866583267 + 10228.538017396 * t);
-        Z0 += 0.00000000180 * Math.cos(0.48168923159 + 45585.1728121874 * t);
-        Z0 += 0.00000000144 * Math.cos(2.81280885697 + 17277.4069318338 * t);
-        Z0 += 0.00000000177 * Math.cos(3.58248029244 + 20400.2727726222 * t);
-        Z0 += 0.00000000170 * Math.cos(3.72282190488 + 31441.6775697568 * t);
-        Z0 += 0.00000000166 * Math.cos(0.03569768750 + 13745.3462390224 * t);
-        Z0 += 0.00000000127 * Math.cos(5.14389302386 + 5481.2549188676 * t);
-        Z0 += 0.00000000138 * Math.cos(1.19253977825 + 22805.7355659936 * t);
-        Z0 += 0.00000000126 * Math.cos(4.21594185374 + 20956.2620575166 * t);
-        Z0 += 0.00000000118 * Math.cos(1.71706550416 + 13341.6743113068 * t);
-        Z0 += 0.00000000131 * Math.cos(0.92317994329 + 3442.5749449654 * t);
-        Z0 += 0.00000000137 * Math.cos(2.89407950366 + 33019.0211122046 * t);
-        Z0 += 0.00000000104 * Math.cos(2.47347358674 + 26709.6469424134 * t);
-        Z0 += 0.00000000127 * Math.cos(0.46833130674 + 536.8045120954 * t);
-        Z0 += 0.00000000126 * Math.cos(2.84049662693 + 9967.4538999816 * t);
-        Z0 += 0.00000000107 * Math.cos(4.19045394315 + 19999.97290154599 * t);
-        Z0 += 0.00000000110 * Math.cos(0.73944778374 + 30110.1656735384 * t);
-        Z0 += 0.00000000138 * Math.cos(4.01403107693 + 21202.093703746 * t);
-        Z0 += 0.00000000121 * Math.cos(3.85928223786 + 522.5774180938 * t);
-        Z0 += 0.00000000122 * Math.cos(0.37000676558 + 10459.1171924404 * t);
-        Z0 += 0.00000000095 * Math.cos(5.25435135477 + 30213.258447757 * t);
-        Z0 += 0.00000000099 * Math.cos(5.61149803116 + 10529.6774158676 * t);
-        Z0 += 0.00000000106 * Math.cos(2.42064996718 + 20809.4676246452 * t);
-        Z0 += 0.00000000095 * Math.cos(3.11317801589 + 9896.8936765544 * t);
-        Z0 += 0.00000000085 * Math.cos(5.88248062550 + 3723.508958923 * t);
-        Z0 += 0.00000000099 * Math.cos(1.93329637732 + 49515.382508407 * t);
-        Z0 += 0.00000000084 * Math.cos(4.93745373910 + 52175.8062831484 * t);
-        Z0 += 0.00000000086 * Math.cos(0.85755223960 + 2379.1644735716 * t);
-        Z0 += 0.00000000114 * Math.cos(5.11309629210 + 103.0927742186 * t);
-        Z0 += 0.00000000110 * Math.cos(1.44699918003 + 43232.3066584156 * t);
-        Z0 += 0.00000000088 * Math.cos(1.59017183044 + 10110.1927719924 * t);
-        Z0 += 0.00000000086 * Math.cos(0.87055324194 + 16522.6597160022 * t);
-        Z0 += 0.00000000089 * Math.cos(2.33714216061 + 10316.3783204296 * t);
-        Z0 += 0.00000000098 * Math.cos(4.66807552803 + 20235.1228263104 * t);
-        Z0 += 0.00000000104 * Math.cos(5.02724740402 + 35371.8872659764 * t);
-        Z0 += 0.00000000093 * Math.cos(4.21356144460 + 36301.18868778519 * t);
-        Z0 += 0.00000000089 * Math.cos(0.88060757437 + 6489.776587288 * t);
-        Z0 += 0.00000000083 * Math.cos(2.07543775594 + 31749.2351907264 * t);
-        Z0 += 0.00000000096 * Math.cos(2.90682399304 + 9793.8009023358 * t);
-        Z0 += 0.00000000078 * Math.cos(2.65839634325 + 10232.95530711079 * t);
-        Z0 += 0.00000000078 * Math.cos(0.55230439694 + 10193.61578531121 * t);
-        Z0 += 0.00000000092 * Math.cos(5.63110477712 + 10288.0671447783 * t);
-        Z0 += 0.00000000092 * Math.cos(3.86278127025 + 10138.5039476437 * t);
-        Z0 += 0.00000000090 * Math.cos(4.34324193073 + 36949.2308084242 * t);
-        Z0 += 0.00000000073 * Math.cos(2.56775245907 + 13936.794505134 * t);
-        Z0 += 0.00000000071 * Math.cos(0.64943236639 + 20.7753954924 * t);
-        Z0 += 0.00000000090 * Math.cos(0.07319663423 + 6872.6731195112 * t);
-        Z0 += 0.00000000069 * Math.cos(1.52914774412 + 9690.7081281172 * t);
-        Z0 += 0.00000000086 * Math.cos(1.02476175384 + 65236.2212932854 * t);
-        Z0 += 0.00000000079 * Math.cos(1.65446145032 + 39264.0692895602 * t);
-        Z0 += 0.00000000071 * Math.cos(0.70714638996 + 36147.4098773004 * t);
-        Z0 += 0.00000000071 * Math.cos(2.52879760001 + 26735.9452622132 * t);
-        Z0 += 0.00000000061 * Math.cos(5.47943297658 + 11764.330768859 * t);
-        Z0 += 0.00000000080 * Math.cos(2.87220602049 + 47162.5163546352 * t);
-        Z0 += 0.00000000065 * Math.cos(2.53312656681 + 10735.8629643048 * t);
-        Z0 += 0.00000000068 * Math.cos(2.28501865578 + 8521.1198767086 * t);
-        Z0 += 0.00000000065 * Math.cos(2.12423586627 + 28313.288804661 * t);
-        Z0 += 0.00000000062 * Math.cos(2.28587915309 + 3903.9113764198 * t);
-        Z0 += 0.00000000069 * Math.cos(0.42270579845 + 9580.5018068978 * t);
-        Z0 += 0.00000000063 * Math.cos(5.80076678078 + 2118.7638603784 * t);
-        Z0 += 0.00000000056 * Math.cos(4.73821324745 + 639.897286314 * t);
-        Z0 += 0.00000000063 * Math.cos(3.35690006984 + 53445.5922046266 * t);
-        Z0 += 0.00000000053 * Math.cos(2.14583523296 + 8631.326197928 * t);
-        Z0 += 0.00000000066 * Math.cos(4.12244312057 + 28521.0927782546 * t);
-        Z0 += 0.00000000058 * Math.cos(5.25045057985 + 10419.4710946482 * t);
-        Z0 += 0.00000000058 * Math.cos(4.23724598221 + 10007.0999977738 * t);
-        Z0 += 0.00000000053 * Math.cos(3.02375632858 + 19317.1925403286 * t);
-        Z0 += 0.00000000071 * Math.cos(2.36609582367 + 74.7815985673 * t);
-        Z0 += 0.00000000062 * Math.cos(2.46239069210 + 10846.0692855242 * t);
-        Z0 += 0.00000000061 * Math.cos(3.77333230443 + 51868.2486621788 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 108 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00208096402 * Math.cos(1.88967278742 + 10213.285546211 * t);
-        Z1 += 0.00001264989 * Math.cos(3.71037501321 + 20426.571092422 * t);
-        Z1 += 0.00001364144;
-        Z1 += 0.00000011139 * Math.cos(4.85437878205 + 30639.856638633 * t);
-        Z1 += 0.00000009557 * Math.cos(2.27891093355 + 9437.762934887 * t);
-        Z1 += 0.00000007822 * Math.cos(5.54315419538 + 1577.3435424478 * t);
-        Z1 += 0.00000005390 * Math.cos(5.37203588853 + 2352.8661537718 * t);
-        Z1 += 0.00000005760 * Math.cos(0.27988422334 + 9153.9036160218 * t);
-        Z1 += 0.00000004681 * Math.cos(5.23427572089 + 10186.9872264112 * t);
-        Z1 += 0.00000003589 * Math.cos(1.59383779306 + 11790.6290886588 * t);
-        Z1 += 0.00000003297 * Math.cos(0.73050419137 + 5507.5532386674 * t);
-        Z1 += 0.00000003681 * Math.cos(4.17406921354 + 10239.5838660108 * t);
-        Z1 += 0.00000002395 * Math.cos(1.34531028758 + 10404.7338123226 * t);
-        Z1 += 0.00000002557 * Math.cos(1.61905357827 + 18073.7049386502 * t);
-        Z1 += 0.00000002079 * Math.cos(5.59900440541 + 529.6909650946 * t);
-        Z1 += 0.00000001893 * Math.cos(5.04556374323 + 10988.808157535 * t);
-        Z1 += 0.00000001957 * Math.cos(6.14586118921 + 22003.9146348698 * t);
-        Z1 += 0.00000001749 * Math.cos(1.72876483551 + 8635.9420037632 * t);
-        Z1 += 0.00000001361 * Math.cos(0.40192228967 + 13367.9726311066 * t);
-        Z1 += 0.00000001159 * Math.cos(2.31994412916 + 10021.8372800994 * t);
-        Z1 += 0.00000001060 * Math.cos(4.40549998074 + 19651.048481098 * t);
-        Z1 += 0.00000001026 * Math.cos(5.05449603850 + 775.522611324 * t);
-        Z1 += 0.00000000894 * Math.cos(6.18769608247 + 7860.4193924392 * t);
-        Z1 += 0.00000000686 * Math.cos(1.37692807485 + 19896.8801273274 * t);
-        Z1 += 0.00000000741 * Math.cos(3.15293239238 + 6283.0758499914 * t);
-        Z1 += 0.00000000559 * Math.cos(0.63256033185 + 8624.2126509272 * t);
-        Z1 += 0.00000000531 * Math.cos(1.77610826151 + 11322.6640983044 * t);
-        Z1 += 0.00000000415 * Math.cos(3.00153763564 + 15720.8387848784 * t);
-        Z1 += 0.00000000390 * Math.cos(5.10646391319 + 9786.687355335 * t);
-        Z1 += 0.00000000440 * Math.cos(1.71617898465 + 20618.0193585336 * t);
-        Z1 += 0.00000000426 * Math.cos(2.83056359378 + 14143.4952424306 * t);
-        Z1 += 0.00000000382 * Math.cos(0.29076532255 + 4705.7323075436 * t);
-        Z1 += 0.00000000372 * Math.cos(1.80541993350 + 17298.1823273262 * t);
-        Z1 += 0.00000000369 * Math.cos(1.25931663640 + 25934.1243310894 * t);
-        Z1 += 0.00000000278 * Math.cos(4.22437893192 + 191.4482661116 * t);
-        Z1 += 0.00000000268 * Math.cos(1.81731580128 + 1059.3819301892 * t);
-        Z1 += 0.00000000296 * Math.cos(0.68834496754 + 19367.1891622328 * t);
-        Z1 += 0.00000000325 * Math.cos(0.20788633679 + 11015.1064773348 * t);
-        Z1 += 0.00000000316 * Math.cos(2.29565820718 + 10742.9765113056 * t);
-        Z1 += 0.00000000231 * Math.cos(6.23978632212 + 9830.3890139878 * t);
-        Z1 += 0.00000000305 * Math.cos(3.73514346008 + 10596.1820784342 * t);
-        Z1 += 0.00000000230 * Math.cos(4.92924491630 + 3930.2096962196 * t);
-        Z1 += 0.00000000233 * Math.cos(2.14466305631 + 801.8209311238 * t);
-        Z1 += 0.00000000207 * Math.cos(1.90716961392 + 9103.9069941176 * t);
-        Z1 += 0.00000000253 * Math.cos(2.27887468784 + 9999.986450773 * t);
-        Z1 += 0.00000000193 * Math.cos(2.68584410734 + 23581.2581773176 * t);
-        Z1 += 0.00000000198 * Math.cos(2.61036398872 + 9411.4646150872 * t);
-        Z1 += 0.00000000169 * Math.cos(3.65397698917 + 7.1135470008 * t);
-        Z1 += 0.00000000173 * Math.cos(3.75026764989 + 7058.5984613154 * t);
-        Z1 += 0.00000000199 * Math.cos(4.79364893479 + 10206.1719992102 * t);
-        Z1 += 0.00000000153 * Math.cos(5.90450931307 + 3154.6870848956 * t);
-        Z1 += 0.00000000180 * Math.cos(3.65160439089 + 21228.3920235458 * t);
-        Z1 += 0.00000000166 * Math.cos(3.22481107463 + 12566.1516999828 * t);
-        Z1 += 0.00000000138 * Math.cos(6.13843515618 + 9161.0171630226 * t);
-        Z1 += 0.00000000147 * Math.cos(4.40417469081 + 10220.3990932118 * t);
-        Z1 += 0.00000000148 * Math.cos(1.39050905939 + 10234.0609417034 * t);
-        Z1 += 0.00000000127 * Math.cos(6.11794706117 + 10426.584641649 * t);
-        Z1 += 0.00000000139 * Math.cos(2.69109384056 + 29864.334027309 * t);
-        Z1 += 0.00000000120 * Math.cos(5.56979067201 + 10192.5101507186 * t);
-        Z1 += 0.00000000137 * Math.cos(5.85513359031 + 213.299095438 * t);
-        Z1 += 0.00000000132 * Math.cos(0.65236823857 + 29580.4747084438 * t);
-        Z1 += 0.00000000148 * Math.cos(5.78273623919 + 26.2983197998 * t);
-        Z1 += 0.00000000110 * Math.cos(1.54178765941 + 9683.5945811164 * t);
-        Z1 += 0.00000000147 * Math.cos(4.38575949385 + 15874.6175953632 * t);
-        Z1 += 0.00000000099 * Math.cos(1.18053788195 + 7084.8967811152 * t);
-        Z1 += 0.00000000097 * Math.cos(5.83350659322 + 40853.142184844 * t);
-        Z1 += 0.00000000103 * Math.cos(2.37976615570 + 3128.3887650958 * t);
-        Z1 += 0.00000000097 * Math.cos(4.64659904732 + 25158.6017197654 * t);
-        Z1 += 0.00000000092 * Math.cos(0.17084455774 + 9146.790069021 * t);
-        Z1 += 0.00000000077 * Math.cos(1.60206102260 + 10207.7626219036 * t);
-        Z1 += 0.00000000077 * Math.cos(1.60857575234 + 10218.8084705184 * t);
-        Z1 += 0.00000000078 * Math.cos(5.16888914284 + 8662.240323563 * t);
-        Z1 += 0.00000000086 * Math.cos(5.48266928025 + 37724.7534197482 * t);
-        Z1 += 0.00000000072 * Math.cos(2.49760315888 + 4551.9534970588 * t);
-        Z1 += 0.00000000079 * Math.cos(6.07206626858 + 20419.45754542119 * t);
-        Z1 += 0.00000000070 * Math.cos(5.55011021099 + 5661.3320491522 * t);
-        Z1 += 0.00000000074 * Math.cos(0.74329919338 + 382.8965322232 * t);
-        Z1 += 0.00000000075 * Math.cos(4.01698827629 + 33794.5437235286 * t);
-        Z1 += 0.00000000074 * Math.cos(6.21974610833 + 18837.49819713819 * t);
-        Z1 += 0.00000000062 * Math.cos(1.21365119312 + 10198.033075026 * t);
-        Z1 += 0.00000000062 * Math.cos(1.99704954707 + 10228.538017396 * t);
-        Z1 += 0.00000000056 * Math.cos(0.16985541402 + 14919.0178537546 * t);
-        Z1 += 0.00000000057 * Math.cos(0.62155717729 + 41654.9631159678 * t);
-        Z1 += 0.00000000049 * Math.cos(3.44789037675 + 28286.9904848612 * t);
-        Z1 += 0.00000000048 * Math.cos(2.58976541849 + 22779.4372461938 * t);
-        Z1 += 0.00000000043 * Math.cos(5.29403475475 + 3149.1641605882 * t);
-        Z1 += 0.00000000044 * Math.cos(3.34917429540 + 11272.6674764002 * t);
-        Z1 += 0.00000000046 * Math.cos(1.96987893116 + 426.598190876 * t);
-        Z1 += 0.00000000053 * Math.cos(1.80084365566 + 45585.1728121874 * t);
-        Z1 += 0.00000000037 * Math.cos(4.19631930368 + 27511.4678735372 * t);
-        Z1 += 0.00000000049 * Math.cos(1.74739410911 + 3532.0606928114 * t);
-        Z1 += 0.00000000036 * Math.cos(0.04372461247 + 20400.2727726222 * t);
-        Z1 += 0.00000000033 * Math.cos(2.63152688250 + 16496.3613962024 * t);
-        Z1 += 0.00000000037 * Math.cos(5.05563683620 + 536.8045120954 * t);
-        Z1 += 0.00000000035 * Math.cos(3.59004163922 + 21535.9496445154 * t);
-        Z1 += 0.00000000044 * Math.cos(0.78654424919 + 20213.271996984 * t);
-        Z1 += 0.00000000033 * Math.cos(6.02490547159 + 21202.093703746 * t);
-        Z1 += 0.00000000036 * Math.cos(5.54416488475 + 522.5774180938 * t);
-        Z1 += 0.00000000038 * Math.cos(6.19285352338 + 29088.811415985 * t);
-        Z1 += 0.00000000031 * Math.cos(1.57491569709 + 32217.2001810808 * t);
-        Z1 += 0.00000000029 * Math.cos(3.64911521641 + 20452.8694122218 * t);
-        Z1 += 0.00000000027 * Math.cos(1.46263510852 + 8094.5216858326 * t);
-        Z1 += 0.00000000034 * Math.cos(4.19685270992 + 13341.6743113068 * t);
-        Z1 += 0.00000000028 * Math.cos(0.28339069792 + 29050.7837433492 * t);
-        Z1 += 0.00000000031 * Math.cos(1.20392434392 + 12592.4500197826 * t);
-        Z1 += 0.00000000031 * Math.cos(1.27304383227 + 33019.0211122046 * t);
-        Z1 += 0.00000000036 * Math.cos(3.22618486892 + 49515.382508407 * t);
-        Z1 += 0.00000000028 * Math.cos(3.70748385631 + 4732.0306273434 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 45 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00009148044 * Math.cos(3.34791005272 + 10213.285546211 * t);
-        Z2 += 0.00000163977;
-        Z2 += 0.00000013554 * Math.cos(5.33914310904 + 20426.571092422 * t);
-        Z2 += 0.00000000683 * Math.cos(0.01279354578 + 10186.9872264112 * t);
-        Z2 += 0.00000000540 * Math.cos(4.13666778984 + 10239.5838660108 * t);
-        Z2 += 0.00000000471 * Math.cos(1.76796792110 + 30639.856638633 * t);
-        Z2 += 0.00000000304 * Math.cos(6.04133491762 + 10988.808157535 * t);
-        Z2 += 0.00000000275 * Math.cos(3.26254603491 + 11790.6290886588 * t);
-        Z2 += 0.00000000303 * Math.cos(0.54544143559 + 2352.8661537718 * t);
-        Z2 += 0.00000000241 * Math.cos(6.17158812425 + 9437.762934887 * t);
-        Z2 += 0.00000000282 * Math.cos(4.03266493057 + 1577.3435424478 * t);
-        Z2 += 0.00000000238 * Math.cos(2.83008439932 + 10404.7338123226 * t);
-        Z2 += 0.00000000259 * Math.cos(5.13154893421 + 9153.9036160218 * t);
-        Z2 += 0.00000000117 * Math.cos(5.42784121915 + 5507.5532386674 * t);
-        Z2 += 0.00000000091 * Math.cos(6.04946077734 + 19651.048481098 * t);
-        Z2 += 0.00000000094 * Math.cos(3.15707903458 + 18073.7049386502 * t);
-        Z2 += 0.00000000071 * Math.cos(0.79640279433 + 10021.8372800994 * t);
-        Z2 += 0.00000000087 * Math.cos(5.24030699307 + 13367.9726311066 * t);
-        Z2 += 0.00000000095 * Math.cos(0.59412563032 + 529.6909650946 * t);
-        Z2 += 0.00000000075 * Math.cos(0.23631944253 + 8635.9420037632 * t);
-        Z2 += 0.00000000069 * Math.cos(1.12472727399 + 22003.9146348698 * t);
-        Z2 += 0.00000000050 * Math.cos(4.62591678818 + 15720.8387848784 * t);
-        Z2 += 0.00000000062 * Math.cos(2.52935211512 + 9683.5945811164 * t);
-        Z2 += 0.00000000039 * Math.cos(3.30445248741 + 11322.6640983044 * t);
-        Z2 += 0.00000000053 * Math.cos(5.25641571023 + 10596.1820784342 * t);
-        Z2 += 0.00000000048 * Math.cos(3.80682230141 + 775.522611324 * t);
-        Z2 += 0.00000000041 * Math.cos(4.19285341280 + 14143.4952424306 * t);
-        Z2 += 0.00000000038 * Math.cos(4.71787306716 + 7058.5984613154 * t);
-        Z2 += 0.00000000029 * Math.cos(4.73183895530 + 9830.3890139878 * t);
-        Z2 += 0.00000000038 * Math.cos(1.87932224242 + 801.8209311238 * t);
-        Z2 += 0.00000000034 * Math.cos(2.62408666722 + 19896.8801273274 * t);
-        Z2 += 0.00000000023 * Math.cos(2.90537821537 + 6283.0758499914 * t);
-        Z2 += 0.00000000025 * Math.cos(2.85904964714 + 9411.4646150872 * t);
-        Z2 += 0.00000000022 * Math.cos(2.31119555973 + 18849.2275499742 * t);
-        Z2 += 0.00000000018 * Math.cos(4.95998579326 + 4705.7323075436 * t);
-        Z2 += 0.00000000019 * Math.cos(3.25100262086 + 20618.0193585336 * t);
-        Z2 += 0.00000000016 * Math.cos(0.53259218563 + 10206.1719992102 * t);
-        Z2 += 0.00000000016 * Math.cos(5.81970120815 + 10220.3990932118 * t);
-        Z2 += 0.00000000017 * Math.cos(5.41171132064 + 26.2983197998 * t);
-        Z2 += 0.00000000015 * Math.cos(4.61555386478 + 9999.986450773 * t);
-        Z2 += 0.00000000015 * Math.cos(4.88064054230 + 10426.584641649 * t);
-        Z2 += 0.00000000021 * Math.cos(0.31827807970 + 11015.1064773348 * t);
-        Z2 += 0.00000000015 * Math.cos(6.18636933791 + 191.4482661116 * t);
-        Z2 += 0.00000000016 * Math.cos(3.94104051711 + 10742.9765113056 * t);
-        Z2 += 0.00000000017 * Math.cos(2.69405014279 + 3128.3887650958 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 10 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000272005 * Math.cos(4.87648116140 + 10213.285546211 * t);
-        Z3 -= 0.00000013656;
-        Z3 += 0.00000001743 * Math.cos(0.42985032723 + 20426.571092422 * t);
-        Z3 += 0.00000000033 * Math.cos(1.54914240166 + 10186.9872264112 * t);
-        Z3 += 0.00000000025 * Math.cos(5.78743368814 + 10239.5838660108 * t);
-        Z3 += 0.00000000015 * Math.cos(0.26812223508 + 30639.856638633 * t);
-        Z3 += 0.00000000010 * Math.cos(5.48827753353 + 9437.762934887 * t);
-        Z3 += 0.00000000008 * Math.cos(4.60069153442 + 11790.6290886588 * t);
-        Z3 += 0.00000000010 * Math.cos(1.90027732701 + 2352.8661537718 * t);
-        Z3 += 0.00000000009 * Math.cos(0.86239699726 + 10988.808157535 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 3 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000006175 * Math.cos(0.17121460361 + 10213.285546211 * t);
-        Z4 -= 0.00000000125;
-        Z4 += 0.00000000041 * Math.cos(2.50364136928 + 20426.571092422 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 3 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000108 * Math.cos(1.67439739641 + 10213.285546211 * t);
-        Z5 += 0.00000000025;
-        Z5 += 0.00000000003 * Math.cos(3.66751123903 + 20426.571092422 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-}
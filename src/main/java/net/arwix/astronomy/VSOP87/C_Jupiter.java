@@ -1,5702 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   JUPITER - VSOP87 Series Version C
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX OF THE DATE
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 1 BC < Date < 4000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class C_Jupiter {
-
-    static double X0(double t) // 1272 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 5.19591755961 * Math.cos(0.59954672200 + 529.9347825781 * t);
-        X0 += 0.37839498798 * Math.cos(3.39164799011 + 0.2438174835 * t);
-        X0 += 0.12593400247 * Math.cos(0.94916456487 + 1059.6257476727 * t);
-        X0 += 0.01504469362 * Math.cos(0.72934997067 + 522.8212355773 * t);
-        X0 += 0.01476016965 * Math.cos(3.61748058581 + 537.0483295789 * t);
-        X0 += 0.00457751771 * Math.cos(1.29886948102 + 1589.3167127673 * t);
-        X0 += 0.00301186623 * Math.cos(5.17699571796 + 7.3573644843 * t);
-        X0 += 0.00381996183 * Math.cos(1.98605213956 + 102.84895673509 * t);
-        X0 += 0.00193179179 * Math.cos(5.02674864982 + 426.8420083595 * t);
-        X0 += 0.00148291722 * Math.cos(6.15618324076 + 110.45013870291 * t);
-        X0 += 0.00142171400 * Math.cos(5.56556633177 + 633.0275567967 * t);
-        X0 += 0.00133443745 * Math.cos(0.89287673636 + 213.5429129215 * t);
-        X0 += 0.00102719450 * Math.cos(6.17016418155 + 1052.51220067191 * t);
-        X0 += 0.00087327523 * Math.cos(6.27541436099 + 529.44714761109 * t);
-        X0 += 0.00114122292 * Math.cos(0.01655163411 + 1162.7185218913 * t);
-        X0 += 0.00072093376 * Math.cos(3.96122861070 + 1066.7392946735 * t);
-        X0 += 0.00059268404 * Math.cos(4.46187501371 + 949.4194264533 * t);
-        X0 += 0.00068329094 * Math.cos(3.43833771050 + 846.3266522347 * t);
-        X0 += 0.00030209026 * Math.cos(2.97106959244 + 205.9417309537 * t);
-        X0 += 0.00034007392 * Math.cos(1.74694593876 + 419.2408263917 * t);
-        X0 += 0.00026616582 * Math.cos(4.85226363695 + 323.74923414091 * t);
-        X0 += 0.00019727427 * Math.cos(1.64894896707 + 2119.00767786191 * t);
-        X0 += 0.00017749540 * Math.cos(0.84241151614 + 419.72846135871 * t);
-        X0 += 0.00017560618 * Math.cos(1.95511771720 + 316.6356871401 * t);
-        X0 += 0.00016308761 * Math.cos(5.73600933766 + 736.1203310153 * t);
-        X0 += 0.00016227856 * Math.cos(0.86857414313 + 515.70768857651 * t);
-        X0 += 0.00014406626 * Math.cos(2.06284119096 + 743.23387801611 * t);
-        X0 += 0.00011421526 * Math.cos(3.48157539864 + 544.1618765797 * t);
-        X0 += 0.00010835166 * Math.cos(3.19395745172 + 103.3365917021 * t);
-        X0 += 0.00012154356 * Math.cos(3.75230765024 + 526.00262931501 * t);
-        X0 += 0.00011992571 * Math.cos(0.58508657370 + 533.8669358412 * t);
-        X0 += 0.00008455662 * Math.cos(3.47881139969 + 640.1411037975 * t);
-        X0 += 0.00008193182 * Math.cos(5.57030621208 + 1479.11039154791 * t);
-        X0 += 0.00008713455 * Math.cos(0.38315206501 + 1692.40948698591 * t);
-        X0 += 0.00007420814 * Math.cos(5.98301259011 + 956.53297345411 * t);
-        X0 += 0.00007565993 * Math.cos(0.90590258528 + 1265.81129610991 * t);
-        X0 += 0.00008202922 * Math.cos(1.41656499571 + 735.6326960483 * t);
-        X0 += 0.00007717111 * Math.cos(0.13134820979 + 1582.2031657665 * t);
-        X0 += 0.00005320837 * Math.cos(1.10497796931 + 526.7533888404 * t);
-        X0 += 0.00005217759 * Math.cos(3.23246701096 + 533.1161763158 * t);
-        X0 += 0.00005238212 * Math.cos(3.11227009303 + 522.3336006103 * t);
-        X0 += 0.00005774716 * Math.cos(5.03860697265 + 14.47091148511 * t);
-        X0 += 0.00005907614 * Math.cos(4.98319674710 + 109.9625037359 * t);
-        X0 += 0.00004575512 * Math.cos(3.75638993330 + 1376.0176173293 * t);
-        X0 += 0.00003939870 * Math.cos(4.30901425634 + 1596.43025976811 * t);
-        X0 += 0.00004568269 * Math.cos(2.14654320251 + 95.7354097343 * t);
-        X0 += 0.00003036375 * Math.cos(3.94492954790 + 309.0345051723 * t);
-        X0 += 0.00002856672 * Math.cos(6.01338099597 + 117.5636857037 * t);
-        X0 += 0.00002820138 * Math.cos(5.26515556940 + 632.5399218297 * t);
-        X0 += 0.00002442859 * Math.cos(4.24056243704 + 433.9555553603 * t);
-        X0 += 0.00002534517 * Math.cos(6.18089912855 + 625.9140097959 * t);
-        X0 += 0.00002329307 * Math.cos(5.93999996459 + 213.0552779545 * t);
-        X0 += 0.00002430903 * Math.cos(3.89413393897 + 220.6564599223 * t);
-        X0 += 0.00002673686 * Math.cos(3.18830432379 + 1169.83206889211 * t);
-        X0 += 0.00002396896 * Math.cos(5.93300784335 + 1045.3986536711 * t);
-        X0 += 0.00002503065 * Math.cos(1.15446452871 + 1052.02456570489 * t);
-        X0 += 0.00001817118 * Math.cos(2.38828009078 + 838.72547026689 * t);
-        X0 += 0.00002014206 * Math.cos(0.16819149452 + 1155.6049748905 * t);
-        X0 += 0.00001501452 * Math.cos(4.60588864812 + 942.3058794525 * t);
-        X0 += 0.00001454916 * Math.cos(5.75976807023 + 853.4401992355 * t);
-        X0 += 0.00001628897 * Math.cos(5.49183726268 + 75.0254160508 * t);
-        X0 += 0.00001106760 * Math.cos(4.07652960629 + 6.86972951729 * t);
-        X0 += 0.00001080777 * Math.cos(5.15189894960 + 316.14805217309 * t);
-        X0 += 0.00001041755 * Math.cos(0.10701428561 + 1795.5022612045 * t);
-        X0 += 0.00000996914 * Math.cos(3.08308908686 + 1272.9248431107 * t);
-        X0 += 0.00000928877 * Math.cos(3.11398170655 + 198.82818395289 * t);
-        X0 += 0.00000934490 * Math.cos(1.99952244525 + 2648.6986429565 * t);
-        X0 += 0.00000858575 * Math.cos(3.71317000991 + 529.88659846831 * t);
-        X0 += 0.00000858481 * Math.cos(0.62779584572 + 529.9829666879 * t);
-        X0 += 0.00001088006 * Math.cos(1.13420142953 + 527.4871020233 * t);
-        X0 += 0.00001080077 * Math.cos(3.20528251357 + 532.3824631329 * t);
-        X0 += 0.00000958229 * Math.cos(1.34776425757 + 149.8070146181 * t);
-        X0 += 0.00000830762 * Math.cos(3.68869745476 + 625.42637482889 * t);
-        X0 += 0.00000815889 * Math.cos(0.09783778677 + 1059.1381127057 * t);
-        X0 += 0.00000838684 * Math.cos(4.25222669612 + 3.6883357796 * t);
-        X0 += 0.00000956674 * Math.cos(5.34413307275 + 379.8839504765 * t);
-        X0 += 0.00000694759 * Math.cos(2.12065531862 + 1155.1173399235 * t);
-        X0 += 0.00000673874 * Math.cos(6.09243781947 + 2008.8013566425 * t);
-        X0 += 0.00000865777 * Math.cos(4.81335091362 + 426.3543733925 * t);
-        X0 += 0.00000897730 * Math.cos(0.91007512660 + 1368.4164353615 * t);
-        X0 += 0.00000667422 * Math.cos(1.95480301512 + 1368.9040703285 * t);
-        X0 += 0.00000747747 * Math.cos(4.71007343847 + 330.8627811417 * t);
-        X0 += 0.00000693620 * Math.cos(1.33864708601 + 1063.55790093581 * t);
-        X0 += 0.00000787813 * Math.cos(0.40190120466 + 839.2131052339 * t);
-        X0 += 0.00000614978 * Math.cos(0.12549858875 + 2111.8941308611 * t);
-        X0 += 0.00000680352 * Math.cos(0.29385269041 + 528.9715747316 * t);
-        X0 += 0.00000678592 * Math.cos(4.04690202000 + 530.89799042461 * t);
-        X0 += 0.00000574130 * Math.cos(0.74562235425 + 2222.1004520805 * t);
-        X0 += 0.00000644748 * Math.cos(1.92762797797 + 412.12727939089 * t);
-        X0 += 0.00000742423 * Math.cos(3.95986148740 + 206.42936592071 * t);
-        X0 += 0.00000563602 * Math.cos(4.06358227588 + 1055.6935944096 * t);
-        X0 += 0.00000559331 * Math.cos(5.87731196423 + 729.0067840145 * t);
-        X0 += 0.00000647539 * Math.cos(5.12542038621 + 984.8441491054 * t);
-        X0 += 0.00000460071 * Math.cos(3.82654707910 + 1073.85284167431 * t);
-        X0 += 0.00000403270 * Math.cos(0.99319532178 + 412.6149143579 * t);
-        X0 += 0.00000539827 * Math.cos(5.31630620093 + 38.3768531213 * t);
-        X0 += 0.00000407824 * Math.cos(2.98828635038 + 910.0625505381 * t);
-        X0 += 0.00000319575 * Math.cos(3.35886072316 + 941.8182444855 * t);
-        X0 += 0.00000301187 * Math.cos(4.06443054226 + 1905.70858242391 * t);
-        X0 += 0.00000330186 * Math.cos(3.60882237102 + 948.9317914863 * t);
-        X0 += 0.00000334161 * Math.cos(0.95340181567 + 76.50988875911 * t);
-        X0 += 0.00000292241 * Math.cos(1.85350584256 + 1471.50920958009 * t);
-        X0 += 0.00000388960 * Math.cos(6.06054382912 + 604.7163811454 * t);
-        X0 += 0.00000387023 * Math.cos(4.52724734369 + 455.1531840108 * t);
-        X0 += 0.00000303530 * Math.cos(5.06433323115 + 529.4135177163 * t);
-        X0 += 0.00000303139 * Math.cos(5.55956712580 + 530.45604743991 * t);
-        X0 += 0.00000276704 * Math.cos(0.65474572491 + 1486.2239385487 * t);
-        X0 += 0.00000383222 * Math.cos(4.89517559942 + 3.42521122121 * t);
-        X0 += 0.00000267964 * Math.cos(2.01438259050 + 309.5221401393 * t);
-        X0 += 0.00000270827 * Math.cos(1.04116519472 + 1258.6977491091 * t);
-        X0 += 0.00000264824 * Math.cos(2.94766261780 + 536.5606946119 * t);
-        X0 += 0.00000342262 * Math.cos(0.65840844301 + 1684.80830501809 * t);
-        X0 += 0.00000254392 * Math.cos(3.58469491330 + 1062.80714141041 * t);
-        X0 += 0.00000289891 * Math.cos(4.38886336303 + 742.74624304909 * t);
-        X0 += 0.00000227013 * Math.cos(4.65796948353 + 2126.1212248627 * t);
-        X0 += 0.00000219942 * Math.cos(3.05429299635 + 515.2200536095 * t);
-        X0 += 0.00000304124 * Math.cos(1.75362149529 + 6283.3196674749 * t);
-        X0 += 0.00000289590 * Math.cos(2.97007145679 + 305.10235190919 * t);
-        X0 += 0.00000225217 * Math.cos(3.50147007971 + 1699.5230339867 * t);
-        X0 += 0.00000192734 * Math.cos(1.02002841562 + 508.5941415757 * t);
-        X0 += 0.00000181955 * Math.cos(0.77882678658 + 1898.5950354231 * t);
-        X0 += 0.00000180824 * Math.cos(2.76562890852 + 1265.32366114289 * t);
-        X0 += 0.00000234431 * Math.cos(0.92363421460 + 1056.444353935 * t);
-        X0 += 0.00000210412 * Math.cos(4.02038896426 + 490.5779066629 * t);
-        X0 += 0.00000178960 * Math.cos(6.10154360210 + 527.01402127131 * t);
-        X0 += 0.00000184077 * Math.cos(5.59641213885 + 1471.9968445471 * t);
-        X0 += 0.00000177005 * Math.cos(4.52323003424 + 532.8555438849 * t);
-        X0 += 0.00000197754 * Math.cos(6.22787965841 + 1575.08961876571 * t);
-        X0 += 0.00000201548 * Math.cos(1.60035448064 + 728.5191490475 * t);
-        X0 += 0.00000164871 * Math.cos(3.47686660224 + 529.1840230527 * t);
-        X0 += 0.00000164585 * Math.cos(0.86380543039 + 530.68554210351 * t);
-        X0 += 0.00000191757 * Math.cos(0.30748865043 + 569.29165849331 * t);
-        X0 += 0.00000155012 * Math.cos(1.25790672042 + 519.63984183961 * t);
-        X0 += 0.00000216423 * Math.cos(5.68405931071 + 453.1810763355 * t);
-        X0 += 0.00000208270 * Math.cos(3.39324145545 + 1439.75351563271 * t);
-        X0 += 0.00000195461 * Math.cos(0.69780042310 + 1685.2959399851 * t);
-        X0 += 0.00000158021 * Math.cos(4.32825610392 + 525.7419968841 * t);
-        X0 += 0.00000155478 * Math.cos(0.01448171646 + 534.1275682721 * t);
-        X0 += 0.00000142916 * Math.cos(2.35979415786 + 11.2895177474 * t);
-        X0 += 0.00000166137 * Math.cos(3.66026536347 + 224.5886131854 * t);
-        X0 += 0.00000139568 * Math.cos(3.35575676150 + 647.25465079831 * t);
-        X0 += 0.00000194718 * Math.cos(5.30500289646 + 1021.49271203491 * t);
-        X0 += 0.00000142687 * Math.cos(3.06398958840 + 1258.21011414209 * t);
-        X0 += 0.00000136501 * Math.cos(6.00364083075 + 99.40443843901 * t);
-        X0 += 0.00000155156 * Math.cos(5.30496926203 + 845.8390172677 * t);
-        X0 += 0.00000148749 * Math.cos(4.08138644957 + 301.9209581715 * t);
-        X0 += 0.00000142483 * Math.cos(3.75685487130 + 227.77000692311 * t);
-        X0 += 0.00000128042 * Math.cos(5.39609470815 + 1162.23088692429 * t);
-        X0 += 0.00000129196 * Math.cos(1.58923571595 + 1787.9010792367 * t);
-        X0 += 0.00000176884 * Math.cos(3.17597373171 + 10213.5293636945 * t);
-        X0 += 0.00000120579 * Math.cos(3.08299978310 + 540.2297233166 * t);
-        X0 += 0.00000163945 * Math.cos(2.01248197600 + 1.7282901918 * t);
-        X0 += 0.00000135003 * Math.cos(3.79885672041 + 540.98048284201 * t);
-        X0 += 0.00000121846 * Math.cos(3.78904805348 + 524.3057082856 * t);
-        X0 += 0.00000120032 * Math.cos(0.55319497448 + 535.56385687061 * t);
-        X0 += 0.00000124238 * Math.cos(3.38846678226 + 983.3596763971 * t);
-        X0 += 0.00000123682 * Math.cos(3.34428700111 + 525.26891613211 * t);
-        X0 += 0.00000104430 * Math.cos(0.57516865787 + 530.0948412725 * t);
-        X0 += 0.00000104430 * Math.cos(3.76551699050 + 529.7747238837 * t);
-        X0 += 0.00000136458 * Math.cos(0.41278945595 + 2001.2001746747 * t);
-        X0 += 0.00000115988 * Math.cos(3.35547392183 + 750.3474250169 * t);
-        X0 += 0.00000104731 * Math.cos(3.32722729895 + 551.27542358051 * t);
-        X0 += 0.00000100945 * Math.cos(2.35927152342 + 1581.7155307995 * t);
-        X0 += 0.00000116158 * Math.cos(0.99764725383 + 534.6006490241 * t);
-        X0 += 0.00000122805 * Math.cos(4.90630450089 + 524.5181566067 * t);
-        X0 += 0.00000103104 * Math.cos(4.41419723891 + 963.6465204549 * t);
-        X0 += 0.00000115142 * Math.cos(0.31814375241 + 2325.1932262991 * t);
-        X0 += 0.00000120928 * Math.cos(5.71584928874 + 535.35140854951 * t);
-        X0 += 0.00000094293 * Math.cos(3.24393572880 + 1802.6158082053 * t);
-        X0 += 0.00000092521 * Math.cos(0.02282195426 + 1383.13116433011 * t);
-        X0 += 0.00000085964 * Math.cos(2.53905253590 + 831.6119232661 * t);
-        X0 += 0.00000091882 * Math.cos(3.03470202176 + 441.06910236111 * t);
-        X0 += 0.00000090884 * Math.cos(2.64222941727 + 4.1759707466 * t);
-        X0 += 0.00000096153 * Math.cos(4.88678063240 + 21.5844584859 * t);
-        X0 += 0.00000073111 * Math.cos(5.81311465775 + 415.7963080956 * t);
-        X0 += 0.00000072096 * Math.cos(0.31807246212 + 529.72233425701 * t);
-        X0 += 0.00000072096 * Math.cos(4.02261318625 + 530.1472308992 * t);
-        X0 += 0.00000095408 * Math.cos(5.93750222727 + 35.6685401356 * t);
-        X0 += 0.00000079513 * Math.cos(0.68230348252 + 835.28095197081 * t);
-        X0 += 0.00000068517 * Math.cos(2.77354883412 + 1574.6019837987 * t);
-        X0 += 0.00000069848 * Math.cos(0.27519157939 + 518.8890823142 * t);
-        X0 += 0.00000073288 * Math.cos(0.55107431240 + 832.0995582331 * t);
-        X0 += 0.00000073790 * Math.cos(1.37824862036 + 1044.9110187041 * t);
-        X0 += 0.00000062635 * Math.cos(0.34734323123 + 2214.98690507971 * t);
-        X0 += 0.00000072372 * Math.cos(5.64987811590 + 511.7755353134 * t);
-        X0 += 0.00000079774 * Math.cos(1.04707348735 + 618.8004627951 * t);
-        X0 += 0.00000084465 * Math.cos(0.44987072707 + 834.7933170038 * t);
-        X0 += 0.00000082357 * Math.cos(2.58250672354 + 531.4192552864 * t);
-        X0 += 0.00000068826 * Math.cos(4.98304145215 + 548.0940298428 * t);
-        X0 += 0.00000058994 * Math.cos(1.32874569406 + 2104.2929488933 * t);
-        X0 += 0.00000069760 * Math.cos(5.12306055524 + 98.91680347199 * t);
-        X0 += 0.00000074013 * Math.cos(4.41911169510 + 174.1860370063 * t);
-        X0 += 0.00000055680 * Math.cos(4.79831502417 + 644.0732570606 * t);
-        X0 += 0.00000077878 * Math.cos(1.73526543836 + 528.4503098698 * t);
-        X0 += 0.00000054479 * Math.cos(2.02247283767 + 1898.10740045609 * t);
-        X0 += 0.00000055045 * Math.cos(2.14129882164 + 639.6534688305 * t);
-        X0 += 0.00000053073 * Math.cos(1.97157293394 + 1048.58004740881 * t);
-        X0 += 0.00000052282 * Math.cos(4.62008175590 + 960.4651267172 * t);
-        X0 += 0.00000051560 * Math.cos(1.64669753295 + 514.95692905111 * t);
-        X0 += 0.00000052703 * Math.cos(0.30289030550 + 2641.5850959557 * t);
-        X0 += 0.00000066188 * Math.cos(0.59773291524 + 230.3207533419 * t);
-        X0 += 0.00000049711 * Math.cos(2.69410394468 + 544.9126361051 * t);
-        X0 += 0.00000049029 * Math.cos(3.17600907963 + 387.4851324443 * t);
-        X0 += 0.00000065960 * Math.cos(1.03002405667 + 1364.9719170654 * t);
-        X0 += 0.00000052715 * Math.cos(1.48379190348 + 1057.1780671179 * t);
-        X0 += 0.00000058796 * Math.cos(4.35893030098 + 39.1130584317 * t);
-        X0 += 0.00000059809 * Math.cos(0.66614084819 + 91.8032564712 * t);
-        X0 += 0.00000046231 * Math.cos(0.25459657690 + 2538.4923217371 * t);
-        X0 += 0.00000048382 * Math.cos(5.62148696439 + 2428.2860005177 * t);
-        X0 += 0.00000060070 * Math.cos(3.77993719329 + 1062.0734282275 * t);
-        X0 += 0.00000056428 * Math.cos(0.17441147343 + 2317.5920443313 * t);
-        X0 += 0.00000059945 * Math.cos(0.89318521903 + 494.510059926 * t);
-        X0 += 0.00000043719 * Math.cos(0.36566607858 + 2.20386307129 * t);
-        X0 += 0.00000048181 * Math.cos(3.78650322165 + 618.3128278281 * t);
-        X0 += 0.00000049751 * Math.cos(1.88142062033 + 679.4979797127 * t);
-        X0 += 0.00000058551 * Math.cos(2.31298978175 + 1058.14127496441 * t);
-        X0 += 0.00000047067 * Math.cos(2.35309949230 + 3178.38960805111 * t);
-        X0 += 0.00000052897 * Math.cos(1.94858672370 + 106.7811099982 * t);
-        X0 += 0.00000041687 * Math.cos(0.97719980018 + 1059.67393178251 * t);
-        X0 += 0.00000041782 * Math.cos(3.44686195540 + 71.09326278771 * t);
-        X0 += 0.00000043674 * Math.cos(1.21900999269 + 430.7741616226 * t);
-        X0 += 0.00000044776 * Math.cos(4.88736591079 + 312.70353387701 * t);
-        X0 += 0.00000048969 * Math.cos(5.94887655147 + 1038.2851066703 * t);
-        X0 += 0.00000038530 * Math.cos(2.27809788058 + 1148.00379292269 * t);
-        X0 += 0.00000052006 * Math.cos(3.46735017105 + 565.35950523021 * t);
-        X0 += 0.00000047878 * Math.cos(3.92919910061 + 1375.52998236229 * t);
-        X0 += 0.00000038108 * Math.cos(0.29006450181 + 1788.38871420371 * t);
-        X0 += 0.00000049073 * Math.cos(4.15252949988 + 523.7844434238 * t);
-        X0 += 0.00000038297 * Math.cos(5.94013989158 + 106.5179854398 * t);
-        X0 += 0.00000041687 * Math.cos(4.06257397973 + 1059.5775635629 * t);
-        X0 += 0.00000037366 * Math.cos(1.12685707466 + 2751.79141717511 * t);
-        X0 += 0.00000041634 * Math.cos(4.80654439187 + 1478.62275658089 * t);
-        X0 += 0.00000041532 * Math.cos(5.44681505603 + 1514.53511420 * t);
-        X0 += 0.00000041308 * Math.cos(4.63852007603 + 10.538758222 * t);
-        X0 += 0.00000040633 * Math.cos(0.18959097751 + 18.40306474821 * t);
-        X0 += 0.00000042800 * Math.cos(0.11312892780 + 113.89465699899 * t);
-        X0 += 0.00000048985 * Math.cos(6.20232924224 + 3340.8562441833 * t);
-        X0 += 0.00000044449 * Math.cos(0.18999902170 + 536.08512173241 * t);
-        X0 += 0.00000034928 * Math.cos(1.15350567398 + 672.3844327119 * t);
-        X0 += 0.00000036386 * Math.cos(2.02390109067 + 1361.79052332771 * t);
-        X0 += 0.00000036844 * Math.cos(4.88632014089 + 530.195415009 * t);
-        X0 += 0.00000036844 * Math.cos(5.73755081465 + 529.6741501472 * t);
-        X0 += 0.00000034444 * Math.cos(2.48976796512 + 1890.9938534553 * t);
-        X0 += 0.00000041479 * Math.cos(1.78003006526 + 1593.2488660304 * t);
-        X0 += 0.00000046613 * Math.cos(3.74069024826 + 1513.05064149171 * t);
-        X0 += 0.00000032971 * Math.cos(3.84810585282 + 522.7730514675 * t);
-        X0 += 0.00000035418 * Math.cos(0.77769804196 + 522.8694196871 * t);
-        X0 += 0.00000032742 * Math.cos(5.83069185951 + 124.6772327045 * t);
-        X0 += 0.00000034850 * Math.cos(4.49564263533 + 1060.5889555192 * t);
-        X0 += 0.00000030476 * Math.cos(4.38612921635 + 1585.38455950421 * t);
-        X0 += 0.00000029011 * Math.cos(1.17948661211 + 121.4958389668 * t);
-        X0 += 0.00000033477 * Math.cos(2.97189030450 + 629.0954035336 * t);
-        X0 += 0.00000028909 * Math.cos(0.86697673022 + 2001.68780964171 * t);
-        X0 += 0.00000029909 * Math.cos(3.55918762072 + 537.0001454691 * t);
-        X0 += 0.00000027497 * Math.cos(0.49110595355 + 537.09651368871 * t);
-        X0 += 0.00000028353 * Math.cos(1.72487234310 + 2214.4992701127 * t);
-        X0 += 0.00000027748 * Math.cos(1.07211390256 + 2420.68481854989 * t);
-        X0 += 0.00000033057 * Math.cos(6.08453905425 + 568.0678182159 * t);
-        X0 += 0.00000027675 * Math.cos(5.33832022976 + 528.6627581909 * t);
-        X0 += 0.00000029521 * Math.cos(1.16643867883 + 1361.3028883607 * t);
-        X0 += 0.00000027586 * Math.cos(5.28550988684 + 531.2068069653 * t);
-        X0 += 0.00000033930 * Math.cos(6.20456328242 + 885.6835281499 * t);
-        X0 += 0.00000027514 * Math.cos(3.02979777846 + 114.38229196601 * t);
-        X0 += 0.00000024495 * Math.cos(2.50371137844 + 99.6675629974 * t);
-        X0 += 0.00000024344 * Math.cos(4.77377573492 + 935.19233245171 * t);
-        X0 += 0.00000026492 * Math.cos(4.72075048576 + 422.9098550964 * t);
-        X0 += 0.00000030581 * Math.cos(4.75568574212 + 142.20583265029 * t);
-        X0 += 0.00000032993 * Math.cos(0.64338422669 + 1058.66253982621 * t);
-        X0 += 0.00000026693 * Math.cos(5.72614338710 + 747.1660312792 * t);
-        X0 += 0.00000023218 * Math.cos(3.10531480612 + 216.9874312176 * t);
-        X0 += 0.00000031446 * Math.cos(0.08123535736 + 437.8877086234 * t);
-        X0 += 0.00000023990 * Math.cos(5.67950841232 + 523.3425004391 * t);
-        X0 += 0.00000025905 * Math.cos(1.13267038207 + 10.8018827804 * t);
-        X0 += 0.00000030584 * Math.cos(4.71116923713 + 1024.20102502061 * t);
-        X0 += 0.00000022355 * Math.cos(4.58469057077 + 106.0303504728 * t);
-        X0 += 0.00000027098 * Math.cos(0.93569436946 + 497.69145366371 * t);
-        X0 += 0.00000029688 * Math.cos(4.36436889437 + 760.01171843649 * t);
-        X0 += 0.00000026696 * Math.cos(3.19374047498 + 1158.78636862821 * t);
-        X0 += 0.00000025786 * Math.cos(5.76825883047 + 636.95971005981 * t);
-        X0 += 0.00000024825 * Math.cos(0.15973617739 + 1134.40734624 * t);
-        X0 += 0.00000022840 * Math.cos(2.40514320530 + 459.0853372739 * t);
-        X0 += 0.00000021870 * Math.cos(4.94490093150 + 536.52706471711 * t);
-        X0 += 0.00000022257 * Math.cos(0.47018335123 + 521.8580277308 * t);
-        X0 += 0.00000026904 * Math.cos(6.12428331703 + 299.37021175271 * t);
-        X0 += 0.00000020168 * Math.cos(6.20868850257 + 2104.7805838603 * t);
-        X0 += 0.00000019591 * Math.cos(4.17431782455 + 1603.5438067689 * t);
-        X0 += 0.00000023983 * Math.cos(6.22729049577 + 2633.98391398789 * t);
-        X0 += 0.00000023778 * Math.cos(3.38484692408 + 562.1781114925 * t);
-        X0 += 0.00000019633 * Math.cos(4.12778045809 + 491.8017469403 * t);
-        X0 += 0.00000026288 * Math.cos(4.52163096435 + 454.6655490438 * t);
-        X0 += 0.00000021128 * Math.cos(3.50042367011 + 934.70469748469 * t);
-        X0 += 0.00000019074 * Math.cos(2.11128326565 + 327.68138740401 * t);
-        X0 += 0.00000018465 * Math.cos(2.01761953412 + 1464.3956625793 * t);
-        X0 += 0.00000021220 * Math.cos(0.04126742412 + 495.9945326343 * t);
-        X0 += 0.00000024986 * Math.cos(5.13828768722 + 860.55374623631 * t);
-        X0 += 0.00000018596 * Math.cos(2.14973780639 + 5.872891776 * t);
-        X0 += 0.00000024136 * Math.cos(2.13158664025 + 380.37158544351 * t);
-        X0 += 0.00000018303 * Math.cos(4.62800343377 + 953.3515797164 * t);
-        X0 += 0.00000024099 * Math.cos(4.23660015333 + 621.98185653281 * t);
-        X0 += 0.00000019533 * Math.cos(1.90765352683 + 1098.9826235879 * t);
-        X0 += 0.00000017623 * Math.cos(2.20903684953 + 2207.38572311189 * t);
-        X0 += 0.00000018076 * Math.cos(1.99926940915 + 600.7842278823 * t);
-        X0 += 0.00000017281 * Math.cos(3.28385778370 + 191.7146369521 * t);
-        X0 += 0.00000017873 * Math.cos(3.86678308802 + 538.0115374254 * t);
-        X0 += 0.00000017226 * Math.cos(4.25912073762 + 2435.3995475185 * t);
-        X0 += 0.00000021244 * Math.cos(0.00678624260 + 1166.6506751544 * t);
-        X0 += 0.00000020337 * Math.cos(4.39625051286 + 1795.0146262375 * t);
-        X0 += 0.00000016743 * Math.cos(0.09936960208 + 2531.3787747363 * t);
-        X0 += 0.00000019199 * Math.cos(4.29791815751 + 563.87503252191 * t);
-        X0 += 0.00000016833 * Math.cos(4.00808166209 + 24.6228398717 * t);
-        X0 += 0.00000021175 * Math.cos(4.99199643071 + 88.6218627335 * t);
-        X0 += 0.00000016556 * Math.cos(3.85103221392 + 2229.2139990813 * t);
-        X0 += 0.00000016153 * Math.cos(0.18779034779 + 1049.3308069342 * t);
-        X0 += 0.00000019785 * Math.cos(0.93062834115 + 505.5557601899 * t);
-        X0 += 0.00000018422 * Math.cos(3.75327275320 + 1969.4444807273 * t);
-        X0 += 0.00000019816 * Math.cos(3.66020647553 + 96.2230447013 * t);
-        X0 += 0.00000016272 * Math.cos(3.90786214802 + 527.22646959241 * t);
-        X0 += 0.00000016170 * Math.cos(0.43269809157 + 532.64309556381 * t);
-        X0 += 0.00000015510 * Math.cos(0.95686644280 + 988.7763023685 * t);
-        X0 += 0.00000015594 * Math.cos(4.85697058261 + 39.6006933987 * t);
-        X0 += 0.00000015853 * Math.cos(3.02589971757 + 501.62360692681 * t);
-        X0 += 0.00000016153 * Math.cos(0.61159863731 + 31.9995114309 * t);
-        X0 += 0.00000018509 * Math.cos(3.41681808770 + 554.31380496631 * t);
-        X0 += 0.00000015127 * Math.cos(3.55269023427 + 460.7822583033 * t);
-        X0 += 0.00000016461 * Math.cos(2.78340595427 + 220.16882495529 * t);
-        X0 += 0.00000019878 * Math.cos(3.75956771122 + 1691.9218520189 * t);
-        X0 += 0.00000014712 * Math.cos(5.41386260565 + 1059.10448281091 * t);
-        X0 += 0.00000017901 * Math.cos(3.55352098378 + 107.2687449652 * t);
-        X0 += 0.00000014484 * Math.cos(4.85838274505 + 1070.6714479366 * t);
-        X0 += 0.00000015909 * Math.cos(2.53709217872 + 4.9096839295 * t);
-        X0 += 0.00000014674 * Math.cos(1.30453945233 + 558.2459582294 * t);
-        X0 += 0.00000014766 * Math.cos(5.45303717130 + 2744.6778701743 * t);
-        X0 += 0.00000018715 * Math.cos(0.73543610732 + 523.71500745461 * t);
-        X0 += 0.00000014896 * Math.cos(6.07608976526 + 1588.82907780029 * t);
-        X0 += 0.00000017816 * Math.cos(2.22215138151 + 74.53778108379 * t);
-        X0 += 0.00000014616 * Math.cos(1.43483029983 + 2530.8911397693 * t);
-        X0 += 0.00000018292 * Math.cos(4.97649486970 + 1151.6728216274 * t);
-        X0 += 0.00000018426 * Math.cos(3.60525731370 + 536.1545577016 * t);
-        X0 += 0.00000013673 * Math.cos(2.25783413626 + 732.1881777522 * t);
-        X0 += 0.00000013765 * Math.cos(4.47849985236 + 67.424234083 * t);
-        X0 += 0.00000014986 * Math.cos(1.65285454596 + 2015.9149036433 * t);
-        X0 += 0.00000013750 * Math.cos(2.09723381259 + 451.2210307477 * t);
-        X0 += 0.00000013701 * Math.cos(1.07017817726 + 1586.13531902961 * t);
-        X0 += 0.00000013415 * Math.cos(0.81149327947 + 2737.0766882065 * t);
-        X0 += 0.00000013707 * Math.cos(3.60868974559 + 498.91529394111 * t);
-        X0 += 0.00000013957 * Math.cos(3.93496730766 + 1592.498106505 * t);
-        X0 += 0.00000012833 * Math.cos(2.22104975837 + 423.66061462181 * t);
-        X0 += 0.00000012935 * Math.cos(0.78943775071 + 599.0873068529 * t);
-        X0 += 0.00000013524 * Math.cos(5.01956369633 + 2655.8121899573 * t);
-        X0 += 0.00000015347 * Math.cos(3.07625567879 + 323.2615991739 * t);
-        X0 += 0.00000014250 * Math.cos(3.29327530307 + 462.2667310116 * t);
-        X0 += 0.00000014314 * Math.cos(5.64098428550 + 1551.1836771295 * t);
-        X0 += 0.00000016350 * Math.cos(4.95142719083 + 1290.19031849811 * t);
-        X0 += 0.00000012174 * Math.cos(0.91067652575 + 2318.0796792983 * t);
-        X0 += 0.00000014758 * Math.cos(1.09361060094 + 945.48727319021 * t);
-        X0 += 0.00000013727 * Math.cos(5.64051351782 + 113.6315324406 * t);
-        X0 += 0.00000012014 * Math.cos(3.16779032587 + 938.3737261894 * t);
-        X0 += 0.00000012669 * Math.cos(0.88657082206 + 597.60283414461 * t);
-        X0 += 0.00000012684 * Math.cos(0.73280624012 + 560.9542712151 * t);
-        X0 += 0.00000012686 * Math.cos(2.81489159967 + 528.2378615487 * t);
-        X0 += 0.00000012686 * Math.cos(1.52579404870 + 531.63170360751 * t);
-        X0 += 0.00000011902 * Math.cos(1.87001916874 + 636.2089505344 * t);
-        X0 += 0.00000015029 * Math.cos(4.51212876715 + 155.53915477459 * t);
-        X0 += 0.00000014712 * Math.cos(5.90909648144 + 1060.1470125345 * t);
-        X0 += 0.00000013153 * Math.cos(5.81211132947 + 34.1840674273 * t);
-        X0 += 0.00000011492 * Math.cos(1.17570579774 + 0.719390363 * t);
-        X0 += 0.00000011728 * Math.cos(2.23882691795 + 608.64853440851 * t);
-        X0 += 0.00000014802 * Math.cos(4.49062834163 + 760.4993534035 * t);
-        X0 += 0.00000014208 * Math.cos(0.26437682229 + 151.2914873264 * t);
-        X0 += 0.00000013247 * Math.cos(3.17700507895 + 5.1728084879 * t);
-        X0 += 0.00000013608 * Math.cos(4.18261824771 + 28.0673581678 * t);
-        X0 += 0.00000011186 * Math.cos(2.71818106129 + 531.3710711766 * t);
-        X0 += 0.00000011186 * Math.cos(1.62250458708 + 528.4984939796 * t);
-        X0 += 0.00000014801 * Math.cos(0.14206552505 + 378.39947776819 * t);
-        X0 += 0.00000011873 * Math.cos(0.97351968238 + 1677.6947580173 * t);
-        X0 += 0.00000010898 * Math.cos(6.16454751785 + 629.846163059 * t);
-        X0 += 0.00000014422 * Math.cos(1.11940784009 + 381.3684231848 * t);
-        X0 += 0.00000010799 * Math.cos(0.67317304481 + 1148.49142788971 * t);
-        X0 += 0.00000010862 * Math.cos(4.63986010898 + 248.9676355736 * t);
-        X0 += 0.00000010584 * Math.cos(4.42476612376 + 430.02340209721 * t);
-        X0 += 0.00000014240 * Math.cos(4.58422194293 + 1173.7642221552 * t);
-        X0 += 0.00000010278 * Math.cos(3.13159900994 + 209.87388421679 * t);
-        X0 += 0.00000011280 * Math.cos(5.48473876275 + 46.71424039951 * t);
-        X0 += 0.00000010327 * Math.cos(1.24113581631 + 606.2008538537 * t);
-        X0 += 0.00000013270 * Math.cos(4.37719157411 + 1041.466500408 * t);
-        X0 += 0.00000013786 * Math.cos(4.55090300929 + 337.9763281425 * t);
-        X0 += 0.00000010252 * Math.cos(0.92652948440 + 1891.4814884223 * t);
-        X0 += 0.00000013304 * Math.cos(5.56269483757 + 63.49208081989 * t);
-        X0 += 0.00000009721 * Math.cos(0.53326540754 + 1159.53712815361 * t);
-        X0 += 0.00000009974 * Math.cos(4.64682563136 + 9.8050450391 * t);
-        X0 += 0.00000010564 * Math.cos(3.20765136591 + 1251.0965671413 * t);
-        X0 += 0.00000012937 * Math.cos(0.98121958090 + 944.7390057923 * t);
-        X0 += 0.00000012666 * Math.cos(6.06707633877 + 721.8932370137 * t);
-        X0 += 0.00000009141 * Math.cos(1.74908467583 + 1780.78753223589 * t);
-        X0 += 0.00000009377 * Math.cos(1.95219143915 + 2523.7775927685 * t);
-        X0 += 0.00000008992 * Math.cos(2.62152527313 + 1165.89991562901 * t);
-        X0 += 0.00000009074 * Math.cos(3.84732904999 + 754.27957828001 * t);
-        X0 += 0.00000008886 * Math.cos(2.45050457262 + 528.71094230071 * t);
-        X0 += 0.00000008886 * Math.cos(1.89018107575 + 531.1586228555 * t);
-        X0 += 0.00000008815 * Math.cos(2.08073903214 + 302.40859313851 * t);
-        X0 += 0.00000012114 * Math.cos(4.85216986598 + 1020.2688717575 * t);
-        X0 += 0.00000008872 * Math.cos(1.62855962032 + 194.89603068979 * t);
-        X0 += 0.00000010983 * Math.cos(5.00727208394 + 1.24065522479 * t);
-        X0 += 0.00000012190 * Math.cos(6.14672657104 + 72.31710306511 * t);
-        X0 += 0.00000008635 * Math.cos(0.16436387127 + 1056.7049863659 * t);
-        X0 += 0.00000010308 * Math.cos(6.00917440923 + 2950.3757836445 * t);
-        X0 += 0.00000011595 * Math.cos(1.86026762055 + 1289.7026835311 * t);
-        X0 += 0.00000008931 * Math.cos(0.42213138869 + 956.04533848709 * t);
-        X0 += 0.00000010790 * Math.cos(3.70406181805 + 529.0410107008 * t);
-        X0 += 0.00000010790 * Math.cos(0.63662383032 + 530.8285544554 * t);
-        X0 += 0.00000008192 * Math.cos(3.78940462638 + 13.9832765181 * t);
-        X0 += 0.00000007989 * Math.cos(3.82641746989 + 1058.87498814731 * t);
-        X0 += 0.00000010336 * Math.cos(3.40289007586 + 73.5409433425 * t);
-        X0 += 0.00000008394 * Math.cos(2.58792157805 + 525.7901809939 * t);
-        X0 += 0.00000010766 * Math.cos(3.96400751980 + 2111.40649589409 * t);
-        X0 += 0.00000007749 * Math.cos(1.75600486693 + 522.0704760519 * t);
-        X0 += 0.00000008309 * Math.cos(1.75332287431 + 534.0793841623 * t);
-        X0 += 0.00000010415 * Math.cos(4.58881028655 + 319.8170808778 * t);
-        X0 += 0.00000009365 * Math.cos(4.84977681203 + 415.3086731286 * t);
-        X0 += 0.00000007601 * Math.cos(2.58490575206 + 537.7990891043 * t);
-        X0 += 0.00000008635 * Math.cos(4.87197749696 + 1062.5465089795 * t);
-        X0 += 0.00000007859 * Math.cos(0.38734357220 + 1065.0423736441 * t);
-        X0 += 0.00000007602 * Math.cos(0.36299136019 + 1063.8185333667 * t);
-        X0 += 0.00000010315 * Math.cos(3.38211998665 + 456.6376567191 * t);
-        X0 += 0.00000007989 * Math.cos(1.21335631002 + 1060.3765071981 * t);
-        X0 += 0.00000008083 * Math.cos(1.68073025462 + 533.37930087419 * t);
-        X0 += 0.00000007529 * Math.cos(1.15606058501 + 2847.28300942589 * t);
-        X0 += 0.00000008490 * Math.cos(5.93185778563 + 202.0095776906 * t);
-        X0 += 0.00000007329 * Math.cos(5.32490948993 + 148.32254190981 * t);
-        X0 += 0.00000007187 * Math.cos(4.26147498381 + 30.7756711535 * t);
-        X0 += 0.00000009756 * Math.cos(3.52626213949 + 2008.3137216755 * t);
-        X0 += 0.00000008727 * Math.cos(2.59290505793 + 1202.0753978065 * t);
-        X0 += 0.00000007941 * Math.cos(3.50505477575 + 2332.3067732999 * t);
-        X0 += 0.00000006801 * Math.cos(2.80122649992 + 1054.9598812267 * t);
-        X0 += 0.00000008387 * Math.cos(5.98467407510 + 2957.9769656123 * t);
-        X0 += 0.00000007512 * Math.cos(0.64381751060 + 952.60082019101 * t);
-        X0 += 0.00000007552 * Math.cos(0.20225772775 + 842.3944989716 * t);
-        X0 += 0.00000007680 * Math.cos(6.15861344699 + 334.7949344048 * t);
-        X0 += 0.00000009231 * Math.cos(0.70359932145 + 2854.8841913937 * t);
-        X0 += 0.00000008791 * Math.cos(1.10109597117 + 483.4643596621 * t);
-        X0 += 0.00000007389 * Math.cos(2.29761310414 + 202.4972126576 * t);
-        X0 += 0.00000006847 * Math.cos(2.25408688945 + 320.5678404032 * t);
-        X0 += 0.00000008929 * Math.cos(0.96089681844 + 603.23190843711 * t);
-        X0 += 0.00000006520 * Math.cos(0.54950232146 + 3053.46855786309 * t);
-        X0 += 0.00000006721 * Math.cos(0.46202136795 + 1912.8221294247 * t);
-        X0 += 0.00000008859 * Math.cos(3.82736358661 + 217.4750661846 * t);
-        X0 += 0.00000008710 * Math.cos(3.26439990653 + 576.4052054941 * t);
-        X0 += 0.00000007535 * Math.cos(3.00289317558 + 1061.110220381 * t);
-        X0 += 0.00000006826 * Math.cos(2.18157664615 + 284.39235822571 * t);
-        X0 += 0.00000006401 * Math.cos(4.64009991006 + 117.0760507367 * t);
-        X0 += 0.00000006884 * Math.cos(5.25234540574 + 277.2788112249 * t);
-        X0 += 0.00000006632 * Math.cos(6.12206657880 + 2.9375762542 * t);
-        X0 += 0.00000007529 * Math.cos(1.69514413761 + 423.17297965479 * t);
-        X0 += 0.00000006885 * Math.cos(4.98621366157 + 946.23803271561 * t);
-        X0 += 0.00000006200 * Math.cos(5.72324814885 + 1272.4372081437 * t);
-        X0 += 0.00000006730 * Math.cos(2.20794164333 + 531.5793139808 * t);
-        X0 += 0.00000006730 * Math.cos(2.13274400504 + 528.29025117541 * t);
-        X0 += 0.00000006259 * Math.cos(5.74959705113 + 142.6934676173 * t);
-        X0 += 0.00000007602 * Math.cos(4.67235401511 + 1055.43296197871 * t);
-        X0 += 0.00000007329 * Math.cos(6.05862254648 + 5.97595764 * t);
-        X0 += 0.00000005901 * Math.cos(1.20913339550 + 1251.5842021083 * t);
-        X0 += 0.00000006013 * Math.cos(0.39504567840 + 1035.24672528451 * t);
-        X0 += 0.00000005953 * Math.cos(4.50565796160 + 498.4422131891 * t);
-        X0 += 0.00000007833 * Math.cos(4.37166198972 + 68.90870679129 * t);
-        X0 += 0.00000006343 * Math.cos(2.74168510429 + 199.3158189199 * t);
-        X0 += 0.00000005843 * Math.cos(0.90437055622 + 1276.85699637381 * t);
-        X0 += 0.00000007666 * Math.cos(4.79082431872 + 247.4831628653 * t);
-        X0 += 0.00000005663 * Math.cos(4.73243855855 + 1091.86907658711 * t);
-        X0 += 0.00000005605 * Math.cos(2.83447163903 + 513.4724563428 * t);
-        X0 += 0.00000005524 * Math.cos(6.17355324978 + 2847.77064439291 * t);
-        X0 += 0.00000007612 * Math.cos(5.67631106398 + 352.06040979221 * t);
-        X0 += 0.00000005914 * Math.cos(5.25663173098 + 1054.20912170131 * t);
-        X0 += 0.00000007627 * Math.cos(1.64993486675 + 405.5013673571 * t);
-        X0 += 0.00000005507 * Math.cos(6.11802918315 + 561.4273519671 * t);
-        X0 += 0.00000005497 * Math.cos(5.97722134510 + 810.90192958261 * t);
-        X0 += 0.00000005666 * Math.cos(1.34586791176 + 1064.29161411871 * t);
-        X0 += 0.00000005378 * Math.cos(1.50621399976 + 546.39710881341 * t);
-        X0 += 0.00000006319 * Math.cos(4.76637123715 + 1493.3374855495 * t);
-        X0 += 0.00000006876 * Math.cos(0.37866209699 + 408.19512612779 * t);
-        X0 += 0.00000005745 * Math.cos(5.91871265537 + 430.2865266556 * t);
-        X0 += 0.00000006791 * Math.cos(4.05903259226 + 303.6178792009 * t);
-        X0 += 0.00000007093 * Math.cos(5.97150143560 + 740.0524842784 * t);
-        X0 += 0.00000006815 * Math.cos(3.11788100877 + 1053.9966733802 * t);
-        X0 += 0.00000005111 * Math.cos(4.19087253985 + 1176.9456158929 * t);
-        X0 += 0.00000005065 * Math.cos(4.11506105627 + 1059.4656889783 * t);
-        X0 += 0.00000006697 * Math.cos(2.00713771131 + 685.2301198692 * t);
-        X0 += 0.00000005674 * Math.cos(3.00549520381 + 1567.48843679789 * t);
-        X0 += 0.00000005759 * Math.cos(2.66366184710 + 166.58485503849 * t);
-        X0 += 0.00000004933 * Math.cos(5.71470503937 + 245.2986068689 * t);
-        X0 += 0.00000005446 * Math.cos(3.42551680794 + 757.4609720177 * t);
-        X0 += 0.00000005053 * Math.cos(1.65431850894 + 1678.1823929843 * t);
-        X0 += 0.00000005999 * Math.cos(4.09275084512 + 908.57807782981 * t);
-        X0 += 0.00000005382 * Math.cos(3.62538539878 + 512.66930719071 * t);
-        X0 += 0.00000004943 * Math.cos(1.68108509143 + 2840.1694624251 * t);
-        X0 += 0.00000005065 * Math.cos(0.92471272365 + 1059.7858063671 * t);
-        X0 += 0.00000005075 * Math.cos(3.24596774005 + 508.10650660869 * t);
-        X0 += 0.00000004955 * Math.cos(3.41906236842 + 1069.92068841121 * t);
-        X0 += 0.00000005153 * Math.cos(0.71530024343 + 547.2002579655 * t);
-        X0 += 0.00000004607 * Math.cos(0.55203312702 + 2634.47154895491 * t);
-        X0 += 0.00000004755 * Math.cos(2.46962174787 + 415.04804069769 * t);
-        X0 += 0.00000004775 * Math.cos(0.82589283410 + 1994.08662767389 * t);
-        X0 += 0.00000004590 * Math.cos(1.48644692945 + 2097.1794018925 * t);
-        X0 += 0.00000004911 * Math.cos(1.51731908389 + 512.5262948388 * t);
-        X0 += 0.00000004553 * Math.cos(3.05075479447 + 509.487913453 * t);
-        X0 += 0.00000004672 * Math.cos(3.60789441008 + 234.8835539239 * t);
-        X0 += 0.00000004578 * Math.cos(0.86543502074 + 305.5899868762 * t);
-        X0 += 0.00000005193 * Math.cos(4.02461886486 + 320.0802054362 * t);
-        X0 += 0.00000006202 * Math.cos(4.38664626654 + 26088.1469590577 * t);
-        X0 += 0.00000005852 * Math.cos(3.60701404156 + 2427.7983655507 * t);
-        X0 += 0.00000004324 * Math.cos(1.28993084923 + 550.3816517032 * t);
-        X0 += 0.00000004410 * Math.cos(2.46921347430 + 1127.2937992392 * t);
-        X0 += 0.00000004238 * Math.cos(2.94796150753 + 92.2908914382 * t);
-        X0 += 0.00000004881 * Math.cos(4.47400985269 + 725.0746307514 * t);
-        X0 += 0.00000004688 * Math.cos(0.82987676346 + 504.8050006645 * t);
-        X0 += 0.00000004432 * Math.cos(4.78229538893 + 1490.15609181181 * t);
-        X0 += 0.00000004144 * Math.cos(3.28540589450 + 970.7600674557 * t);
-        X0 += 0.00000005737 * Math.cos(4.94804445005 + 707.809155364 * t);
-        X0 += 0.00000004256 * Math.cos(4.52622797251 + 512.4086747598 * t);
-        X0 += 0.00000004139 * Math.cos(0.44147895230 + 470.1310375378 * t);
-        X0 += 0.00000004547 * Math.cos(2.09665176175 + 857.3723524986 * t);
-        X0 += 0.00000004431 * Math.cos(6.20712541641 + 519.9004742705 * t);
-        X0 += 0.00000005723 * Math.cos(0.80521226018 + 1065.2548219652 * t);
-        X0 += 0.00000004278 * Math.cos(2.08187064363 + 739.30172475301 * t);
-        X0 += 0.00000005621 * Math.cos(3.19131378401 + 280.723329521 * t);
-        X0 += 0.00000005007 * Math.cos(6.09093261803 + 492.06237937121 * t);
-        X0 += 0.00000003987 * Math.cos(2.63450729840 + 448.1826493619 * t);
-        X0 += 0.00000004559 * Math.cos(5.79888016601 + 3266.76765330109 * t);
-        X0 += 0.00000004072 * Math.cos(5.22974977136 + 3061.06973983091 * t);
-        X0 += 0.00000004072 * Math.cos(6.09764298210 + 547.4608903964 * t);
-        X0 += 0.00000005087 * Math.cos(4.84521270183 + 114.6429243969 * t);
-        X0 += 0.00000004392 * Math.cos(3.51029744842 + 555.0645644917 * t);
-        X0 += 0.00000004733 * Math.cos(2.24217612600 + 1087.936923324 * t);
-        X0 += 0.00000004590 * Math.cos(5.53010211558 + 209.12312469139 * t);
-        X0 += 0.00000004061 * Math.cos(2.41966232758 + 1578.2710125034 * t);
-        X0 += 0.00000004043 * Math.cos(4.88146457506 + 917.1760975389 * t);
-        X0 += 0.00000004781 * Math.cos(2.52650341453 + 355.99256305531 * t);
-        X0 += 0.00000003840 * Math.cos(1.91188325761 + 479.532206399 * t);
-        X0 += 0.00000004229 * Math.cos(3.44950557661 + 202.760337216 * t);
-        X0 += 0.00000005079 * Math.cos(2.53028620261 + 100.4012761803 * t);
-        X0 += 0.00000003809 * Math.cos(0.33163870572 + 63.9797157869 * t);
-        X0 += 0.00000003869 * Math.cos(0.90238558045 + 3163.6748790825 * t);
-        X0 += 0.00000004615 * Math.cos(5.43148824800 + 8.32057233081 * t);
-        X0 += 0.00000004615 * Math.cos(5.43148824800 + 7.83293736379 * t);
-        X0 += 0.00000004628 * Math.cos(4.53025832657 + 567.807185785 * t);
-        X0 += 0.00000004429 * Math.cos(4.90564275884 + 1025.6854977289 * t);
-        X0 += 0.00000004166 * Math.cos(2.66734467932 + 1587.832240059 * t);
-        X0 += 0.00000004232 * Math.cos(4.10293029058 + 2042.7416065863 * t);
-        X0 += 0.00000003934 * Math.cos(5.18155455773 + 1894.66288216001 * t);
-        X0 += 0.00000004119 * Math.cos(5.42073132205 + 782.59075393131 * t);
-        X0 += 0.00000004305 * Math.cos(4.04299412868 + 237.9219353097 * t);
-        X0 += 0.00000004647 * Math.cos(4.25285731978 + 294.80741117069 * t);
-        X0 += 0.00000003571 * Math.cos(3.65947756157 + 1080.9663886751 * t);
-        X0 += 0.00000003908 * Math.cos(2.16984161430 + 775.4772069305 * t);
-        X0 += 0.00000004183 * Math.cos(0.65593677894 + 3171.2760610503 * t);
-        X0 += 0.00000003544 * Math.cos(5.95475674739 + 849.5080459724 * t);
-        X0 += 0.00000004668 * Math.cos(2.13834164389 + 391.4172857074 * t);
-        X0 += 0.00000003825 * Math.cos(5.15730861384 + 1013.1553247567 * t);
-        X0 += 0.00000004490 * Math.cos(2.90215227898 + 1066.2516597065 * t);
-        X0 += 0.00000003497 * Math.cos(4.37215725203 + 1059.83819599381 * t);
-        X0 += 0.00000004592 * Math.cos(4.61227234774 + 105.2966372899 * t);
-        X0 += 0.00000003507 * Math.cos(3.90043589953 + 589.7385276184 * t);
-        X0 += 0.00000003460 * Math.cos(4.57095415442 + 210.36151918381 * t);
-        X0 += 0.00000003472 * Math.cos(2.42806893940 + 580.33735875721 * t);
-        X0 += 0.00000004742 * Math.cos(5.78282912740 + 1214.92108496379 * t);
-        X0 += 0.00000004236 * Math.cos(4.52262475548 + 458.5977023069 * t);
-        X0 += 0.00000004571 * Math.cos(3.28632828787 + 2324.70559133209 * t);
-        X0 += 0.00000003680 * Math.cos(2.78358155559 + 547.34327031741 * t);
-        X0 += 0.00000003342 * Math.cos(1.72110734407 + 611.6869157943 * t);
-        X0 += 0.00000003327 * Math.cos(2.23284112556 + 416.059432654 * t);
-        X0 += 0.00000003357 * Math.cos(2.00040904789 + 102.8971408449 * t);
-        X0 += 0.00000003597 * Math.cos(5.41599821164 + 81.50831573269 * t);
-        X0 += 0.00000003697 * Math.cos(4.35495083583 + 326.9306278786 * t);
-        X0 += 0.00000003305 * Math.cos(0.91377513656 + 3068.1832868317 * t);
-        X0 += 0.00000003332 * Math.cos(5.10225181759 + 102.8007726253 * t);
-        X0 += 0.00000003850 * Math.cos(4.79682693839 + 223.1041404771 * t);
-        X0 += 0.00000003389 * Math.cos(5.97871270107 + 1050.0645201171 * t);
-        X0 += 0.00000003693 * Math.cos(3.87928741090 + 100.8889111473 * t);
-        X0 += 0.00000003520 * Math.cos(4.33292989715 + 355.50492808829 * t);
-        X0 += 0.00000003747 * Math.cos(1.69335109674 + 101.88574888859 * t);
-        X0 += 0.00000003497 * Math.cos(0.66761652789 + 1059.4132993516 * t);
-        X0 += 0.00000004041 * Math.cos(2.14362833723 + 80.7575562073 * t);
-        X0 += 0.00000003215 * Math.cos(0.53534058688 + 2207.8733580789 * t);
-        X0 += 0.00000003350 * Math.cos(5.33479503934 + 1077.7849949374 * t);
-        X0 += 0.00000003628 * Math.cos(6.13897925009 + 1567.9760717649 * t);
-        X0 += 0.00000004303 * Math.cos(2.23046220012 + 374.15181032 * t);
-        X0 += 0.00000003455 * Math.cos(4.99170868278 + 489.0934339546 * t);
-        X0 += 0.00000004402 * Math.cos(4.47863845219 + 987.55246209111 * t);
-        X0 += 0.00000003638 * Math.cos(5.42646055999 + 103.81216458159 * t);
-        X0 += 0.00000003112 * Math.cos(4.34851347009 + 422.42222012939 * t);
-        X0 += 0.00000003124 * Math.cos(0.32512970919 + 3369.8604275197 * t);
-        X0 += 0.00000003303 * Math.cos(4.42204851380 + 539.96909088571 * t);
-        X0 += 0.00000003803 * Math.cos(2.07273212148 + 852.9525642685 * t);
-        X0 += 0.00000003982 * Math.cos(0.94890253623 + 986.3286218137 * t);
-        X0 += 0.00000003666 * Math.cos(3.00278414954 + 77.9943614674 * t);
-        X0 += 0.00000004012 * Math.cos(2.19807079078 + 668.4522794488 * t);
-        X0 += 0.00000003922 * Math.cos(2.56685919071 + 1215.4087199308 * t);
-        X0 += 0.00000003967 * Math.cos(2.90360763886 + 486.64575339981 * t);
-        X0 += 0.00000003197 * Math.cos(2.07944029870 + 1169.34443392509 * t);
-        X0 += 0.00000003122 * Math.cos(5.39978748620 + 69.3963417583 * t);
-        X0 += 0.00000003954 * Math.cos(3.61115285346 + 1123.3616459761 * t);
-        X0 += 0.00000003201 * Math.cos(3.66652395167 + 145.874861355 * t);
-        X0 += 0.00000003935 * Math.cos(1.80977709754 + 306.58682461749 * t);
-        X0 += 0.00000002958 * Math.cos(4.65595664577 + 531.9405201482 * t);
-        X0 += 0.00000002958 * Math.cos(5.96791430978 + 527.929045008 * t);
-        X0 += 0.00000003054 * Math.cos(2.21604720422 + 654.3681977991 * t);
-        X0 += 0.00000002909 * Math.cos(5.97782239901 + 536.9364549943 * t);
-        X0 += 0.00000002909 * Math.cos(4.64604855654 + 522.9331101619 * t);
-        X0 += 0.00000003738 * Math.cos(5.20971126454 + 977.7306021046 * t);
-        X0 += 0.00000003893 * Math.cos(5.83257009844 + 812.3864022909 * t);
-        X0 += 0.00000003604 * Math.cos(5.17763880188 + 78.4699343469 * t);
-        X0 += 0.00000002867 * Math.cos(1.07832422526 + 1269.743449373 * t);
-        X0 += 0.00000003118 * Math.cos(5.63216227640 + 570.7761312016 * t);
-        X0 += 0.00000003676 * Math.cos(2.63995604671 + 226.07308589371 * t);
-        X0 += 0.00000003463 * Math.cos(4.17288178571 + 1591.76439332211 * t);
-        X0 += 0.00000002870 * Math.cos(1.83388013858 + 1586.8690322125 * t);
-        X0 += 0.00000002889 * Math.cos(5.88273410848 + 504.66198831261 * t);
-        X0 += 0.00000003107 * Math.cos(4.97048599434 + 1905.2209474569 * t);
-        X0 += 0.00000002833 * Math.cos(5.34654613316 + 911.5470232464 * t);
-        X0 += 0.00000003315 * Math.cos(4.08289970624 + 1065.84552279621 * t);
-        X0 += 0.00000003556 * Math.cos(1.43723870007 + 573.2238117564 * t);
-        X0 += 0.00000002918 * Math.cos(1.02389443723 + 967.57867371801 * t);
-        X0 += 0.00000002676 * Math.cos(1.60354882374 + 3281.4823822697 * t);
-        X0 += 0.00000003689 * Math.cos(3.27567307401 + 850.25880549781 * t);
-        X0 += 0.00000003016 * Math.cos(5.84238370205 + 3274.36883526891 * t);
-        X0 += 0.00000003204 * Math.cos(3.20846751019 + 2744.1902352073 * t);
-        X0 += 0.00000002667 * Math.cos(0.77811362765 + 97.9199657307 * t);
-        X0 += 0.00000002647 * Math.cos(2.45257224390 + 134.8291610911 * t);
-        X0 += 0.00000002715 * Math.cos(4.74043154929 + 555.2075768436 * t);
-        X0 += 0.00000003135 * Math.cos(1.58908870559 + 433.46792039329 * t);
-        X0 += 0.00000002639 * Math.cos(3.83183781056 + 144.39038864671 * t);
-        X0 += 0.00000002912 * Math.cos(2.70342002444 + 1883.8803064545 * t);
-        X0 += 0.00000003601 * Math.cos(2.04225476495 + 991.9576961062 * t);
-        X0 += 0.00000002745 * Math.cos(5.11304244810 + 33.6964324603 * t);
-        X0 += 0.00000002589 * Math.cos(5.15515901130 + 93.28772917949 * t);
-        X0 += 0.00000002531 * Math.cos(3.52886647530 + 108.0024581481 * t);
-        X0 += 0.00000002821 * Math.cos(2.63736215369 + 503.1080796351 * t);
-        X0 += 0.00000002585 * Math.cos(1.42843919503 + 3156.5613320817 * t);
-        X0 += 0.00000003142 * Math.cos(1.28656971724 + 520.37355502251 * t);
-        X0 += 0.00000003142 * Math.cos(6.19570189655 + 539.4960101337 * t);
-        X0 += 0.00000002731 * Math.cos(4.37970098385 + 537.16020416351 * t);
-        X0 += 0.00000002731 * Math.cos(6.24416997170 + 522.7093609927 * t);
-        X0 += 0.00000003288 * Math.cos(2.11811777567 + 685.7177548362 * t);
-        X0 += 0.00000002456 * Math.cos(3.04358904051 + 1074.6036011997 * t);
-        X0 += 0.00000002382 * Math.cos(5.50759187807 + 112.8978192577 * t);
-        X0 += 0.00000002385 * Math.cos(2.46238935625 + 1475.1782382848 * t);
-        X0 += 0.00000002456 * Math.cos(1.99618473941 + 1044.6478941457 * t);
-        X0 += 0.00000002435 * Math.cos(0.75544262993 + 824.9860112323 * t);
-        X0 += 0.00000002637 * Math.cos(1.70331908888 + 556.7614855211 * t);
-        X0 += 0.00000003031 * Math.cos(5.67687846191 + 538.5328022872 * t);
-        X0 += 0.00000003031 * Math.cos(4.94699249364 + 521.33676286901 * t);
-        X0 += 0.00000002342 * Math.cos(0.06228259686 + 518.40144734719 * t);
-        X0 += 0.00000002443 * Math.cos(1.03845059435 + 749.8597900499 * t);
-        X0 += 0.00000003226 * Math.cos(4.44994968410 + 536.8358812578 * t);
-        X0 += 0.00000003226 * Math.cos(6.17392127144 + 523.0336838984 * t);
-        X0 += 0.00000002356 * Math.cos(4.85533213884 + 285.61619850311 * t);
-        X0 += 0.00000002452 * Math.cos(2.19107576775 + 1090.6452363097 * t);
-        X0 += 0.00000002986 * Math.cos(4.62414537014 + 491.3141119733 * t);
-        X0 += 0.00000002323 * Math.cos(0.16164499756 + 530.56792202451 * t);
-        X0 += 0.00000002323 * Math.cos(4.17904065081 + 529.3016431317 * t);
-        X0 += 0.00000003003 * Math.cos(3.08627097096 + 108.96566599461 * t);
-        X0 += 0.00000003049 * Math.cos(4.48513403718 + 1438.2690429244 * t);
-        X0 += 0.00000003159 * Math.cos(0.76092054251 + 457.8614969965 * t);
-        X0 += 0.00000003023 * Math.cos(1.39945420180 + 532.9037279947 * t);
-        X0 += 0.00000003023 * Math.cos(2.94123144657 + 526.96583716151 * t);
-        X0 += 0.00000002581 * Math.cos(5.61581142863 + 1483.042544811 * t);
-        X0 += 0.00000002851 * Math.cos(4.62796468589 + 731.70054278519 * t);
-        X0 += 0.00000002627 * Math.cos(3.80975501995 + 1095.0504703248 * t);
-        X0 += 0.00000002198 * Math.cos(1.26120223291 + 2413.5712715491 * t);
-        X0 += 0.00000002533 * Math.cos(1.67483276763 + 12566.3955174663 * t);
-        X0 += 0.00000002183 * Math.cos(6.04766236935 + 2421.1724535169 * t);
-        X0 += 0.00000002273 * Math.cos(1.32684908668 + 1589.3648968771 * t);
-        X0 += 0.00000002201 * Math.cos(5.72550531705 + 2044.2260792946 * t);
-        X0 += 0.00000002304 * Math.cos(4.41348832810 + 1053.47540851841 * t);
-        X0 += 0.00000002878 * Math.cos(2.85936483769 + 28.5549931348 * t);
-        X0 += 0.00000002523 * Math.cos(6.18014679261 + 909.5749155711 * t);
-        X0 += 0.00000002847 * Math.cos(5.46944309481 + 1441.237988341 * t);
-        X0 += 0.00000002211 * Math.cos(0.29447557006 + 376.4394321804 * t);
-        X0 += 0.00000002767 * Math.cos(1.11249816364 + 39.86132582961 * t);
-        X0 += 0.00000002242 * Math.cos(0.27111162703 + 6681.46867088311 * t);
-        X0 += 0.00000002284 * Math.cos(3.14190849220 + 902.94900353731 * t);
-        X0 += 0.00000002122 * Math.cos(2.81881363812 + 543.6742416127 * t);
-        X0 += 0.00000002251 * Math.cos(3.73285596763 + 1067.70250252 * t);
-        X0 += 0.00000002782 * Math.cos(3.62990010057 + 451.69660362719 * t);
-        X0 += 0.00000002107 * Math.cos(2.78853830817 + 824.4983762653 * t);
-        X0 += 0.00000002308 * Math.cos(6.27924595004 + 732.93893727761 * t);
-        X0 += 0.00000002055 * Math.cos(4.34456901846 + 526.2657538734 * t);
-        X0 += 0.00000002624 * Math.cos(3.68204703869 + 1261.8791428468 * t);
-        X0 += 0.00000002059 * Math.cos(5.93579199305 + 1254.765595846 * t);
-        X0 += 0.00000002523 * Math.cos(5.46151498365 + 372.77040347569 * t);
-        X0 += 0.00000002035 * Math.cos(5.20593524984 + 535.7763051917 * t);
-        X0 += 0.00000002035 * Math.cos(5.41793570571 + 524.09325996451 * t);
-        X0 += 0.00000002005 * Math.cos(3.97142686370 + 843.145258497 * t);
-        X0 += 0.00000002366 * Math.cos(2.81479040414 + 3708.0805731457 * t);
-        X0 += 0.00000001959 * Math.cos(2.33278855728 + 163.1403367424 * t);
-        X0 += 0.00000002451 * Math.cos(1.41485691262 + 739.5648493114 * t);
-        X0 += 0.00000002474 * Math.cos(2.34380492610 + 2122.93983112501 * t);
-        X0 += 0.00000001935 * Math.cos(5.95122170645 + 3164.1625140495 * t);
-        X0 += 0.00000002548 * Math.cos(2.30031435926 + 1128.7782719475 * t);
-        X0 += 0.00000002140 * Math.cos(5.32310438264 + 408.68276109481 * t);
-        X0 += 0.00000002089 * Math.cos(0.70684572014 + 60.04756252381 * t);
-        X0 += 0.00000002555 * Math.cos(5.75500802854 + 231.8052260502 * t);
-        X0 += 0.00000002289 * Math.cos(4.10142481033 + 429.28968891431 * t);
-        X0 += 0.00000002652 * Math.cos(3.24034861472 + 405.0137323901 * t);
-        X0 += 0.00000002044 * Math.cos(3.27128458744 + 241.3664536058 * t);
-        X0 += 0.00000001959 * Math.cos(0.64242562063 + 3480.06674873909 * t);
-        X0 += 0.00000001890 * Math.cos(1.30374554288 + 501.4805945749 * t);
-        X0 += 0.00000002361 * Math.cos(2.60496924654 + 1819.8812835927 * t);
-        X0 += 0.00000002290 * Math.cos(2.07662910000 + 386.9974974773 * t);
-        X0 += 0.00000001839 * Math.cos(1.47204895914 + 511.2879003464 * t);
-        X0 += 0.00000001873 * Math.cos(2.16131201791 + 1209.18894480731 * t);
-        X0 += 0.00000001837 * Math.cos(0.13057602825 + 111.4133465494 * t);
-        X0 += 0.00000002510 * Math.cos(3.56540915410 + 602.00806815971 * t);
-        X0 += 0.00000002186 * Math.cos(5.05661256477 + 1553.8919901152 * t);
-        X0 += 0.00000001875 * Math.cos(4.96409845324 + 1590.2799206138 * t);
-        X0 += 0.00000002325 * Math.cos(2.99238523654 + 488.8809856335 * t);
-        X0 += 0.00000001960 * Math.cos(2.67757828738 + 109.48693085641 * t);
-        X0 += 0.00000002511 * Math.cos(1.33963728695 + 167.07249000551 * t);
-        X0 += 0.00000002012 * Math.cos(5.57171500563 + 3583.1595229577 * t);
-        X0 += 0.00000002198 * Math.cos(2.81677718687 + 297.9888049084 * t);
-        X0 += 0.00000002129 * Math.cos(0.30008608118 + 821.94762984651 * t);
-        X0 += 0.00000002219 * Math.cos(3.10449171167 + 2641.0974609887 * t);
-        X0 += 0.00000001954 * Math.cos(0.78506313670 + 1415.3744932445 * t);
-        X0 += 0.00000001787 * Math.cos(5.23586420667 + 1059.88638010361 * t);
-        X0 += 0.00000001933 * Math.cos(3.60934798531 + 1688.4773337228 * t);
-        X0 += 0.00000002173 * Math.cos(0.53973434031 + 1065.776086827 * t);
-        X0 += 0.00000002273 * Math.cos(4.41222326623 + 1589.26852865751 * t);
-        X0 += 0.00000002311 * Math.cos(0.11223855924 + 36.892380413 * t);
-        X0 += 0.00000002005 * Math.cos(5.77162207371 + 746.67839631219 * t);
-        X0 += 0.00000001716 * Math.cos(4.22634329515 + 504.0712874816 * t);
-        X0 += 0.00000001970 * Math.cos(4.25083421565 + 363.1061100561 * t);
-        X0 += 0.00000001879 * Math.cos(1.53326034532 + 1994.5742626409 * t);
-        X0 += 0.00000001715 * Math.cos(0.40254693953 + 2950.8634186115 * t);
-        X0 += 0.00000001859 * Math.cos(4.76472866777 + 2221.6128171135 * t);
-        X0 += 0.00000001760 * Math.cos(5.81144237350 + 1051.5489928254 * t);
-        X0 += 0.00000001679 * Math.cos(0.73859095289 + 2310.4784973305 * t);
-        X0 += 0.00000002127 * Math.cos(5.79555857294 + 945.22664075931 * t);
-        X0 += 0.00000001827 * Math.cos(2.98105578454 + 110.49832281271 * t);
-        X0 += 0.00000001954 * Math.cos(0.06688544879 + 1446.8670626335 * t);
-        X0 += 0.00000002077 * Math.cos(0.12761917926 + 724.5869957844 * t);
-        X0 += 0.00000002096 * Math.cos(1.34829485372 + 570.98857952271 * t);
-        X0 += 0.00000001615 * Math.cos(0.93368590926 + 1052.5603847817 * t);
-        X0 += 0.00000001608 * Math.cos(0.11434235358 + 555.7982776746 * t);
-        X0 += 0.00000001681 * Math.cos(5.56771625121 + 516.4414017594 * t);
-        X0 += 0.00000001681 * Math.cos(5.05615470433 + 543.4281633968 * t);
-        X0 += 0.00000001618 * Math.cos(2.03312852847 + 112.4101842907 * t);
-        X0 += 0.00000001962 * Math.cos(5.75393639029 + 836.7654246791 * t);
-        X0 += 0.00000001962 * Math.cos(2.61234373671 + 836.2777897121 * t);
-        X0 += 0.00000001620 * Math.cos(4.04601847199 + 683.4301329758 * t);
-        X0 += 0.00000001551 * Math.cos(2.34280930104 + 593.67068088151 * t);
-        X0 += 0.00000001819 * Math.cos(2.88219564243 + 3060.5821048639 * t);
-        X0 += 0.00000001634 * Math.cos(4.46994256209 + 56.3785338191 * t);
-        X0 += 0.00000001791 * Math.cos(0.10409892110 + 502.8474472042 * t);
-        X0 += 0.00000002008 * Math.cos(2.52248957084 + 487.3965129252 * t);
-        X0 += 0.00000001551 * Math.cos(6.21389515122 + 3686.2522971763 * t);
-        X0 += 0.00000001511 * Math.cos(1.75866420206 + 1518.46726746311 * t);
-        X0 += 0.00000001910 * Math.cos(1.68897371752 + 228.83628063359 * t);
-        X0 += 0.00000001738 * Math.cos(0.70952679097 + 1226.45442019471 * t);
-        X0 += 0.00000001471 * Math.cos(6.05957994367 + 350.5759370839 * t);
-        X0 += 0.00000001466 * Math.cos(4.96867723168 + 426.7938242497 * t);
-        X0 += 0.00000001636 * Math.cos(2.43292318068 + 2200.2721761111 * t);
-        X0 += 0.00000001940 * Math.cos(3.42777184231 + 1432.6399686319 * t);
-        X0 += 0.00000001484 * Math.cos(3.98627195351 + 995.88984936931 * t);
-        X0 += 0.00000001673 * Math.cos(4.23658671292 + 557.02211795201 * t);
-        X0 += 0.00000002009 * Math.cos(3.88072147559 + 417.2807808039 * t);
-        X0 += 0.00000001573 * Math.cos(1.54985228466 + 425.878800513 * t);
-        X0 += 0.00000001562 * Math.cos(1.17133703517 + 416.547067621 * t);
-        X0 += 0.00000001419 * Math.cos(0.22434479279 + 216.72430665921 * t);
-        X0 += 0.00000001787 * Math.cos(6.08709488043 + 1059.3651152418 * t);
-        X0 += 0.00000001600 * Math.cos(3.53298161884 + 1268.9926898476 * t);
-        X0 += 0.00000001459 * Math.cos(1.86682228155 + 426.8901924693 * t);
-        X0 += 0.00000001860 * Math.cos(0.59126369009 + 1160.27084133651 * t);
-        X0 += 0.00000001409 * Math.cos(4.21180105945 + 383.81610373959 * t);
-        X0 += 0.00000001599 * Math.cos(0.99304321709 + 1588.3535049208 * t);
-        X0 += 0.00000001385 * Math.cos(1.96310882827 + 466.1988842747 * t);
-        X0 += 0.00000001645 * Math.cos(0.25601088543 + 630.5798762419 * t);
-        X0 += 0.00000001867 * Math.cos(3.30529498913 + 1744.6120500584 * t);
-        X0 += 0.00000001796 * Math.cos(2.27749593221 + 424.39432780471 * t);
-        X0 += 0.00000001802 * Math.cos(1.81980262725 + 572.473052231 * t);
-        X0 += 0.00000001563 * Math.cos(5.91937041266 + 312.21589891 * t);
-        X0 += 0.00000001811 * Math.cos(1.18645718578 + 1340.5928946772 * t);
-        X0 += 0.00000001342 * Math.cos(2.52735020510 + 849.7711705308 * t);
-        X0 += 0.00000001409 * Math.cos(1.19028163106 + 3472.9532017383 * t);
-        X0 += 0.00000001340 * Math.cos(5.68788468184 + 1058.3537232855 * t);
-        X0 += 0.00000001342 * Math.cos(5.03842872086 + 3377.4616094875 * t);
-        X0 += 0.00000001764 * Math.cos(4.18037485648 + 312.9666584354 * t);
-        X0 += 0.00000001801 * Math.cos(1.64093908538 + 833.7964792625 * t);
-        X0 += 0.00000001801 * Math.cos(1.64093908538 + 833.30884429549 * t);
-        X0 += 0.00000001504 * Math.cos(3.98849552736 + 1052.46401656211 * t);
-        X0 += 0.00000001346 * Math.cos(0.84106067159 + 1066.7874787833 * t);
-        X0 += 0.00000001711 * Math.cos(2.11130834468 + 1363.48744435711 * t);
-        X0 += 0.00000001382 * Math.cos(3.43383168337 + 24.1352049047 * t);
-        X0 += 0.00000001636 * Math.cos(0.25591141604 + 422.64922266551 * t);
-        X0 += 0.00000001714 * Math.cos(2.66553451397 + 1165.16620244611 * t);
-        X0 += 0.00000001547 * Math.cos(0.43253240963 + 1097.7587833105 * t);
-        X0 += 0.00000001706 * Math.cos(0.40870999807 + 1696.341640249 * t);
-        X0 += 0.00000001293 * Math.cos(2.98652787499 + 394.5986794451 * t);
-        X0 += 0.00000001361 * Math.cos(0.44504530774 + 1579.0217720288 * t);
-        X0 += 0.00000001329 * Math.cos(2.37930563293 + 1628.6735886825 * t);
-        X0 += 0.00000001657 * Math.cos(2.95697828072 + 473.31243127551 * t);
-        X0 += 0.00000001342 * Math.cos(0.89798927248 + 827.67977000299 * t);
-        X0 += 0.00000001353 * Math.cos(4.16385577520 + 2499.1354458219 * t);
-        X0 += 0.00000001322 * Math.cos(4.93972524369 + 1464.8832975463 * t);
-        X0 += 0.00000001528 * Math.cos(0.29983648075 + 138.76131435421 * t);
-        X0 += 0.00000001507 * Math.cos(4.31558459369 + 774.98957196349 * t);
-        X0 += 0.00000001375 * Math.cos(3.98046179765 + 1093.5659976165 * t);
-        X0 += 0.00000001393 * Math.cos(0.72013842017 + 913.9947038012 * t);
-        X0 += 0.00000001302 * Math.cos(1.30247879244 + 494.7225082471 * t);
-        X0 += 0.00000001266 * Math.cos(0.05484214471 + 1162.7667060011 * t);
-        X0 += 0.00000001602 * Math.cos(3.97091760080 + 611.1992808273 * t);
-        X0 += 0.00000001243 * Math.cos(5.45126497249 + 561.6904765255 * t);
-        X0 += 0.00000001234 * Math.cos(1.89694179274 + 436.4032359151 * t);
-        X0 += 0.00000001258 * Math.cos(3.15497421074 + 1162.67033778151 * t);
-        X0 += 0.00000001490 * Math.cos(4.44362414485 + 1468.06469128401 * t);
-        X0 += 0.00000001419 * Math.cos(3.11151373878 + 1138.3394995031 * t);
-        X0 += 0.00000001394 * Math.cos(0.44413366244 + 958.9806540089 * t);
-        X0 += 0.00000001290 * Math.cos(5.15722188790 + 990.47322339791 * t);
-        X0 += 0.00000001199 * Math.cos(0.62664940478 + 414.31183538731 * t);
-        X0 += 0.00000001364 * Math.cos(3.81523518368 + 252.8997888367 * t);
-        X0 += 0.00000001494 * Math.cos(1.51661927481 + 1485.7363035817 * t);
-        X0 += 0.00000001367 * Math.cos(1.47066835723 + 527.9626749028 * t);
-        X0 += 0.00000001464 * Math.cos(3.90911748944 + 1066.69111056371 * t);
-        X0 += 0.00000001248 * Math.cos(3.01032171032 + 9.3174100721 * t);
-        X0 += 0.00000001194 * Math.cos(5.78008609111 + 774.25336665311 * t);
-        X0 += 0.00000001328 * Math.cos(2.33133276999 + 482.9767246951 * t);
-        X0 += 0.00000001176 * Math.cos(5.65248871466 + 633.07574090651 * t);
-        X0 += 0.00000001352 * Math.cos(0.11794612755 + 696.7634551001 * t);
-        X0 += 0.00000001235 * Math.cos(1.29434837440 + 1027.3824187583 * t);
-        X0 += 0.00000001192 * Math.cos(3.03820680249 + 565.1470569091 * t);
-        X0 += 0.00000001337 * Math.cos(5.18331371440 + 427.805216206 * t);
-        X0 += 0.00000001581 * Math.cos(0.42492742452 + 642.58878435231 * t);
-        X0 += 0.00000001186 * Math.cos(4.67061724657 + 2115.0755245988 * t);
-        X0 += 0.00000001339 * Math.cos(6.03072294407 + 1161.7553140448 * t);
-        X0 += 0.00000001260 * Math.cos(2.78492021778 + 633.9907646432 * t);
-        X0 += 0.00000001309 * Math.cos(3.48082829130 + 1163.6817297378 * t);
-        X0 += 0.00000001221 * Math.cos(4.50279420601 + 2538.00468677009 * t);
-        X0 += 0.00000001133 * Math.cos(4.12042287083 + 738.814089786 * t);
-        X0 += 0.00000001172 * Math.cos(2.47236884204 + 632.9793726869 * t);
-        X0 += 0.00000001120 * Math.cos(4.59706955368 + 709.29362807231 * t);
-        X0 += 0.00000001340 * Math.cos(5.63507440526 + 1060.8977720599 * t);
-        X0 += 0.00000001126 * Math.cos(1.12456010627 + 2729.96314120569 * t);
-        X0 += 0.00000001417 * Math.cos(0.94598908604 + 1364.4842820984 * t);
-        X0 += 0.00000001112 * Math.cos(5.29416320994 + 1066.2180298117 * t);
-        X0 += 0.00000001312 * Math.cos(1.35334544403 + 981.8752036888 * t);
-        X0 += 0.00000001496 * Math.cos(5.90360357966 + 388.70897272171 * t);
-        X0 += 0.00000001423 * Math.cos(1.37785950879 + 586.5571338807 * t);
-        X0 += 0.00000001221 * Math.cos(3.63981220961 + 269.6776292571 * t);
-        X0 += 0.00000001088 * Math.cos(1.29669383617 + 1280.0383901115 * t);
-        X0 += 0.00000001089 * Math.cos(5.17675407458 + 946.97174589851 * t);
-        X0 += 0.00000001132 * Math.cos(0.51083517505 + 1664.09831133461 * t);
-        X0 += 0.00000001433 * Math.cos(2.05202099214 + 635.4752373515 * t);
-        X0 += 0.00000001427 * Math.cos(2.97093867648 + 597.11519917759 * t);
-        X0 += 0.00000001389 * Math.cos(4.08780249338 + 636.47207509279 * t);
-        X0 += 0.00000001191 * Math.cos(5.09661092725 + 1887.5493351592 * t);
-        X0 += 0.00000001420 * Math.cos(3.40607940834 + 1140.1394863965 * t);
-        X0 += 0.00000001420 * Math.cos(0.26448675475 + 1140.6271213635 * t);
-        X0 += 0.00000001082 * Math.cos(0.52075379881 + 915.4791765095 * t);
-        X0 += 0.00000001134 * Math.cos(0.14574453315 + 102.3276918733 * t);
-        X0 += 0.00000001061 * Math.cos(1.90789304117 + 925.0404040651 * t);
-        X0 += 0.00000001302 * Math.cos(4.07370610626 + 637.2203424907 * t);
-        X0 += 0.00000001036 * Math.cos(2.10557063879 + 1798.68365494221 * t);
-        X0 += 0.00000001210 * Math.cos(1.65592259758 + 31.73638687251 * t);
-        X0 += 0.00000001210 * Math.cos(1.65592259758 + 31.24875190549 * t);
-        X0 += 0.00000001439 * Math.cos(3.00324185430 + 244.0747665915 * t);
-        X0 += 0.00000001020 * Math.cos(2.05257171773 + 732.45130231059 * t);
-        X0 += 0.00000001025 * Math.cos(0.81896733353 + 951.86710700811 * t);
-        X0 += 0.00000001018 * Math.cos(2.44176419905 + 623.4663292411 * t);
-        X0 += 0.00000001027 * Math.cos(0.61184452819 + 1474.9176058539 * t);
-        X0 += 0.00000001114 * Math.cos(0.64613208093 + 103.37022159689 * t);
-        X0 += 0.00000001040 * Math.cos(2.40824650249 + 314.1880065853 * t);
-        X0 += 0.00000001371 * Math.cos(1.13698163960 + 4590.6663630055 * t);
-        X0 += 0.00000001256 * Math.cos(3.34855371696 + 73.0533083755 * t);
-        X0 += 0.00000001059 * Math.cos(5.69757951835 + 3590.7607049255 * t);
-        X0 += 0.00000001008 * Math.cos(2.53682498993 + 1140.8902459219 * t);
-        X0 += 0.00000001288 * Math.cos(5.39489850289 + 2004.60857094851 * t);
-        X0 += 0.00000001033 * Math.cos(2.65742933066 + 1028.6062590357 * t);
-        X0 += 0.00000001085 * Math.cos(3.78966042020 + 395.34943897051 * t);
-        X0 += 0.00000000971 * Math.cos(1.34946807177 + 665.27088571111 * t);
-        X0 += 0.00000001358 * Math.cos(4.62268264011 + 448.9334088873 * t);
-        X0 += 0.00000000980 * Math.cos(3.55994269076 + 961.94959942551 * t);
-        X0 += 0.00000000994 * Math.cos(0.40039858601 + 3796.4586183957 * t);
-        X0 += 0.00000001202 * Math.cos(5.54033969791 + 453.66871130251 * t);
-        X0 += 0.00000001028 * Math.cos(0.48891270332 + 2524.2652277355 * t);
-        X0 += 0.00000001040 * Math.cos(5.47890663354 + 170.51700830159 * t);
-        X0 += 0.00000000955 * Math.cos(3.71242781522 + 645.5577297689 * t);
-        X0 += 0.00000001241 * Math.cos(4.39110413012 + 1048.0924124418 * t);
-        X0 += 0.00000001076 * Math.cos(2.97284479790 + 2957.48933064529 * t);
-        X0 += 0.00000001230 * Math.cos(2.33341924042 + 1354.6769763269 * t);
-        X0 += 0.00000001240 * Math.cos(5.94758800259 + 610.93615626891 * t);
-        X0 += 0.00000001240 * Math.cos(5.94758800259 + 610.44852130189 * t);
-        X0 += 0.00000001022 * Math.cos(3.69588867080 + 276.79117625789 * t);
-        X0 += 0.00000000924 * Math.cos(2.41983440650 + 842.65762352999 * t);
-        X0 += 0.00000001083 * Math.cos(1.92054379034 + 1901.7764291608 * t);
-        X0 += 0.00000001243 * Math.cos(4.71980053276 + 671.1605924345 * t);
-        X0 += 0.00000001013 * Math.cos(2.54761722905 + 3376.9739745205 * t);
-        X0 += 0.00000001100 * Math.cos(5.92802097748 + 1053.0334655337 * t);
-        X0 += 0.00000001099 * Math.cos(2.80854803975 + 611.8299281462 * t);
-        X0 += 0.00000001099 * Math.cos(4.67370721199 + 448.03963701001 * t);
-        X0 += 0.00000001033 * Math.cos(5.44055724404 + 632.06434895021 * t);
-        X0 += 0.00000000957 * Math.cos(3.89598622213 + 2965.09051261311 * t);
-        X0 += 0.00000001030 * Math.cos(3.34763414892 + 1141.3778808889 * t);
-        X0 += 0.00000001196 * Math.cos(2.56247891942 + 8520.87605922509 * t);
-        X0 += 0.00000000967 * Math.cos(0.19420587029 + 829.0611768473 * t);
-        X0 += 0.00000001166 * Math.cos(1.68067516200 + 1511.5661687834 * t);
-        X0 += 0.00000001147 * Math.cos(5.62238808631 + 1390.2447113309 * t);
-        X0 += 0.00000000873 * Math.cos(1.78825991988 + 322.26476143261 * t);
-        X0 += 0.00000001137 * Math.cos(1.25214902883 + 950.90389916161 * t);
-        X0 += 0.00000001201 * Math.cos(2.52928106613 + 1436.2969352491 * t);
-        X0 += 0.00000000903 * Math.cos(0.04697695828 + 1475.9289978102 * t);
-        X0 += 0.00000000858 * Math.cos(5.65232336931 + 3480.5543837061 * t);
-        X0 += 0.00000001061 * Math.cos(5.43420240433 + 1014.3791650341 * t);
-        X0 += 0.00000000852 * Math.cos(3.85820066843 + 1305.16817202511 * t);
-        X0 += 0.00000001121 * Math.cos(3.79729993404 + 2861.9977383945 * t);
-        X0 += 0.00000000978 * Math.cos(1.58128047477 + 1262.6299023722 * t);
-        X0 += 0.00000000918 * Math.cos(3.86741534242 + 341.01470952831 * t);
-        X0 += 0.00000000886 * Math.cos(2.01115688146 + 1482.2917852856 * t);
-        X0 += 0.00000001153 * Math.cos(1.03307352866 + 1055.95671896799 * t);
-        X0 += 0.00000001011 * Math.cos(2.13326219711 + 1379.9497705924 * t);
-        X0 += 0.00000000844 * Math.cos(4.80951949791 + 231.70216018621 * t);
-        X0 += 0.00000000939 * Math.cos(4.90771963793 + 1703.4551872498 * t);
-        X0 += 0.00000001029 * Math.cos(2.73261618718 + 2545.6058687379 * t);
-        X0 += 0.00000001042 * Math.cos(0.93684376629 + 297.8857390444 * t);
-        X0 += 0.00000001170 * Math.cos(1.11117592168 + 46.22660543249 * t);
-        X0 += 0.00000000962 * Math.cos(3.48479854663 + 37.88921815429 * t);
-        X0 += 0.00000000877 * Math.cos(2.57722816875 + 357.68948408471 * t);
-        X0 += 0.00000000988 * Math.cos(3.77368109282 + 7211.1596359777 * t);
-        X0 += 0.00000000892 * Math.cos(5.41512877404 + 1571.1574655026 * t);
-        X0 += 0.00000001109 * Math.cos(1.10719434979 + 348.1282565291 * t);
-        X0 += 0.00000000827 * Math.cos(1.26246251342 + 20956.5058750001 * t);
-        X0 += 0.00000000934 * Math.cos(3.64280443414 + 525.514994348 * t);
-        X0 += 0.00000000914 * Math.cos(1.85188487603 + 1031.3145720214 * t);
-        X0 += 0.00000000998 * Math.cos(3.87130911943 + 1505.9370944909 * t);
-        X0 += 0.00000001003 * Math.cos(5.35180604374 + 1681.36378672201 * t);
-        X0 += 0.00000001043 * Math.cos(1.20439768274 + 3384.5751564883 * t);
-        X0 += 0.00000001133 * Math.cos(1.03655442301 + 1357.8583700646 * t);
-        X0 += 0.00000001118 * Math.cos(3.02473429596 + 892.7970751507 * t);
-        X0 += 0.00000000818 * Math.cos(3.19817529862 + 1153.1572943357 * t);
-        X0 += 0.00000000883 * Math.cos(4.94847300730 + 533.45790092711 * t);
-        X0 += 0.00000000883 * Math.cos(5.67539794824 + 526.4116642291 * t);
-        X0 += 0.00000000966 * Math.cos(0.88110178776 + 381.8560581518 * t);
-        X0 += 0.00000001014 * Math.cos(1.05859637798 + 50.6463936626 * t);
-        X0 += 0.00000001014 * Math.cos(1.05859637798 + 50.15875869559 * t);
-        X0 += 0.00000000977 * Math.cos(3.07712828393 + 25035.39094090229 * t);
-        X0 += 0.00000000933 * Math.cos(3.89970622027 + 671.8967977449 * t);
-        X0 += 0.00000000898 * Math.cos(2.17511781419 + 2516.66404576769 * t);
-        X0 += 0.00000000787 * Math.cos(4.25746871915 + 1056.917434687 * t);
-        X0 += 0.00000000788 * Math.cos(6.10879216964 + 4002.64416683289 * t);
-        X0 += 0.00000000950 * Math.cos(2.54359450579 + 532.6285413488 * t);
-        X0 += 0.00000000839 * Math.cos(3.46904179365 + 4686.6455902233 * t);
-        X0 += 0.00000000965 * Math.cos(0.47908461253 + 1520.1641884925 * t);
-        X0 += 0.00000001017 * Math.cos(3.23008830093 + 1020.0082393266 * t);
-        X0 += 0.00000000820 * Math.cos(0.33194380569 + 348.3913810875 * t);
-        X0 += 0.00000000786 * Math.cos(3.36629143378 + 178.11819026941 * t);
-        X0 += 0.00000000929 * Math.cos(2.33109721672 + 1130.47519297691 * t);
-        X0 += 0.00000000779 * Math.cos(6.05972875769 + 224.1009782184 * t);
-        X0 += 0.00000000951 * Math.cos(0.17977055776 + 25021.16384690069 * t);
-        X0 += 0.00000000917 * Math.cos(5.17636386869 + 3899.5513926143 * t);
-        X0 += 0.00000000763 * Math.cos(6.06912796746 + 432.2586343309 * t);
-        X0 += 0.00000000841 * Math.cos(3.14888189898 + 643.32249753521 * t);
-        X0 += 0.00000000782 * Math.cos(2.23847303429 + 1731.76636290111 * t);
-        X0 += 0.00000000945 * Math.cos(5.41706658717 + 758.5272457282 * t);
-        X0 += 0.00000001032 * Math.cos(4.77033383542 + 3075.2968338325 * t);
-        X0 += 0.00000000899 * Math.cos(1.08525568253 + 1053.4059725492 * t);
-        X0 += 0.00000000822 * Math.cos(3.63842218035 + 1354.18934135989 * t);
-        X0 += 0.00000000742 * Math.cos(2.00349570279 + 896.7292284138 * t);
-        X0 += 0.00000000989 * Math.cos(0.49078513563 + 493.2862196486 * t);
-        X0 += 0.00000000989 * Math.cos(3.84990051274 + 566.58334550761 * t);
-        X0 += 0.00000000742 * Math.cos(4.21700173393 + 948.4562186068 * t);
-        X0 += 0.00000000743 * Math.cos(0.15399551563 + 3267.2552882681 * t);
-        X0 += 0.00000000785 * Math.cos(4.75769615946 + 5091.90814063229 * t);
-        X0 += 0.00000000735 * Math.cos(1.17205944527 + 1689.2280932482 * t);
-        X0 += 0.00000000902 * Math.cos(0.31191653892 + 3487.66793070691 * t);
-        X0 += 0.00000000766 * Math.cos(4.59479371633 + 402.4629859713 * t);
-        X0 += 0.00000000870 * Math.cos(5.19110249005 + 522.2999707155 * t);
-        X0 += 0.00000000870 * Math.cos(2.29117581191 + 537.5695944407 * t);
-        X0 += 0.00000000789 * Math.cos(1.67089119717 + 950.3826342998 * t);
-        X0 += 0.00000000729 * Math.cos(0.18108618274 + 2226.0326053436 * t);
-        X0 += 0.00000000967 * Math.cos(1.47776388922 + 149.3193796511 * t);
-        X0 += 0.00000000740 * Math.cos(5.30434390465 + 172.0014810099 * t);
-        X0 += 0.00000000732 * Math.cos(5.42947892699 + 1600.3624130312 * t);
-        X0 += 0.00000000743 * Math.cos(3.66751928973 + 6011.6893409589 * t);
-        X0 += 0.00000000773 * Math.cos(4.89422681258 + 8616.85528644289 * t);
-        X0 += 0.00000000718 * Math.cos(3.85060206529 + 1055.2059594426 * t);
-        X0 += 0.00000000814 * Math.cos(0.89760005882 + 5.385256809 * t);
-        X0 += 0.00000000780 * Math.cos(1.36192178535 + 949.3712423435 * t);
-        X0 += 0.00000000736 * Math.cos(2.50427265642 + 23968.89546371229 * t);
-        X0 += 0.00000000703 * Math.cos(6.05341470629 + 2108.7127371234 * t);
-        X0 += 0.00000000705 * Math.cos(4.27109184095 + 260.01333583751 * t);
-        X0 += 0.00000000837 * Math.cos(6.23244350461 + 97.4323307637 * t);
-        X0 += 0.00000000708 * Math.cos(1.83471250896 + 628.6077685666 * t);
-        X0 += 0.00000000700 * Math.cos(3.30963068355 + 78.2068097885 * t);
-        X0 += 0.00000000704 * Math.cos(3.63963986047 + 621.4942215658 * t);
-        X0 += 0.00000000972 * Math.cos(0.79938922309 + 806.96977631951 * t);
-        X0 += 0.00000000902 * Math.cos(2.81734866519 + 3259.39098174191 * t);
-        X0 += 0.00000000806 * Math.cos(2.20722357743 + 703.8770021009 * t);
-        X0 += 0.00000000861 * Math.cos(0.12846059397 + 215.99059347631 * t);
-        X0 += 0.00000000761 * Math.cos(1.26132938995 + 2310.9661322975 * t);
-        X0 += 0.00000000705 * Math.cos(6.12372523380 + 657.4065791849 * t);
-        X0 += 0.00000000758 * Math.cos(0.59861605652 + 1382.64352936309 * t);
-        X0 += 0.00000000727 * Math.cos(4.99142796126 + 64.7159210973 * t);
-        X0 += 0.00000000687 * Math.cos(2.94155817065 + 952.8639447494 * t);
-        X0 += 0.00000000692 * Math.cos(2.45791725703 + 10.051123255 * t);
-        X0 += 0.00000000963 * Math.cos(4.33870402832 + 6916.1034067881 * t);
-        X0 += 0.00000000906 * Math.cos(6.05623889142 + 110.4019545931 * t);
-        X0 += 0.00000000729 * Math.cos(0.96200157729 + 3789.34507139489 * t);
-        X0 += 0.00000000678 * Math.cos(0.26412480699 + 2218.91905834281 * t);
-        X0 += 0.00000000810 * Math.cos(3.48317459389 + 678.0135070044 * t);
-        X0 += 0.00000000761 * Math.cos(0.98944003909 + 1542.8462898513 * t);
-        X0 += 0.00000000734 * Math.cos(1.45019492995 + 4863.4417305527 * t);
-        X0 += 0.00000000793 * Math.cos(2.38971782488 + 209.6107596584 * t);
-        X0 += 0.00000000666 * Math.cos(3.51087567158 + 4127.5652170209 * t);
-        X0 += 0.00000000849 * Math.cos(0.87603037716 + 368.83825021259 * t);
-        X0 += 0.00000000815 * Math.cos(2.42173445767 + 359.173956793 * t);
-        X0 += 0.00000000865 * Math.cos(3.38745286825 + 157.0236274829 * t);
-        X0 += 0.00000000799 * Math.cos(3.33480033880 + 519.15220687259 * t);
-        X0 += 0.00000000730 * Math.cos(5.68999754324 + 98.6561710411 * t);
-        X0 += 0.00000000923 * Math.cos(0.04640766407 + 179.6026629777 * t);
-        X0 += 0.00000000862 * Math.cos(0.85096575069 + 1669.83045149109 * t);
-        X0 += 0.00000000903 * Math.cos(0.10254863796 + 1745.0996850254 * t);
-        X0 += 0.00000000704 * Math.cos(0.48323040130 + 718.8548556279 * t);
-        X0 += 0.00000000765 * Math.cos(2.39228400458 + 1834.8591371197 * t);
-        X0 += 0.00000000651 * Math.cos(0.55942905431 + 153.25153291419 * t);
-        X0 += 0.00000000670 * Math.cos(5.53772543546 + 5702.4110183031 * t);
-        X0 += 0.00000000689 * Math.cos(4.05205162416 + 540.49284787499 * t);
-        X0 += 0.00000000677 * Math.cos(1.95007474747 + 745.6815585709 * t);
-        X0 += 0.00000000646 * Math.cos(0.12458575010 + 2118.5200428949 * t);
-        X0 += 0.00000000744 * Math.cos(4.47249588475 + 305.85311143459 * t);
-        X0 += 0.00000000837 * Math.cos(3.51443539039 + 1818.3968108844 * t);
-        X0 += 0.00000000795 * Math.cos(1.49835916545 + 376.9150050599 * t);
-        X0 += 0.00000000639 * Math.cos(0.44760408452 + 5282.92637442791 * t);
-        X0 += 0.00000000639 * Math.cos(0.08134772596 + 651.1868040614 * t);
-        X0 += 0.00000000791 * Math.cos(5.22053399158 + 2432.21815378081 * t);
-        X0 += 0.00000000666 * Math.cos(3.04828183923 + 2439.3317007816 * t);
-        X0 += 0.00000000699 * Math.cos(3.61168485832 + 999.8220026324 * t);
-        X0 += 0.00000000848 * Math.cos(4.72505501580 + 445.00125562421 * t);
-        X0 += 0.00000000784 * Math.cos(0.87407256063 + 1372.3485886246 * t);
-        X0 += 0.00000000784 * Math.cos(3.91355130181 + 494.022424959 * t);
-        X0 += 0.00000000826 * Math.cos(5.66627016660 + 1063.0702659688 * t);
-        X0 += 0.00000000773 * Math.cos(1.76079397166 + 3334.1725803092 * t);
-        X0 += 0.00000000766 * Math.cos(3.62656366077 + 927.5911504839 * t);
-        X0 += 0.00000000629 * Math.cos(5.55045637886 + 444.1074837469 * t);
-        X0 += 0.00000000680 * Math.cos(4.21509885032 + 2854.3965564267 * t);
-        X0 += 0.00000000652 * Math.cos(1.27664994367 + 99.92819542829 * t);
-        X0 += 0.00000000628 * Math.cos(4.74686224811 + 3693.8534791441 * t);
-        X0 += 0.00000000810 * Math.cos(3.03838651852 + 721.40560204669 * t);
-        X0 += 0.00000000854 * Math.cos(6.18289625105 + 1366.4563897737 * t);
-        X0 += 0.00000000867 * Math.cos(5.76374497089 + 10846.3131030077 * t);
-        X0 += 0.00000000788 * Math.cos(6.12952239651 + 1040.97886544099 * t);
-        X0 += 0.00000000626 * Math.cos(4.22299641050 + 841.9068640046 * t);
-        X0 += 0.00000000630 * Math.cos(5.17292925619 + 291.76902978489 * t);
-        X0 += 0.00000000650 * Math.cos(2.73748814643 + 558.3889705813 * t);
-        X0 += 0.00000000611 * Math.cos(3.22751051338 + 4443.9570866775 * t);
-        X0 += 0.00000000726 * Math.cos(2.09447836425 + 2151.25100677631 * t);
-        X0 += 0.00000000751 * Math.cos(5.81420327516 + 446.06752933469 * t);
-        X0 += 0.00000000615 * Math.cos(5.59117038277 + 208.3894115085 * t);
-        X0 += 0.00000000745 * Math.cos(2.60964521069 + 451.97179027311 * t);
-        X0 += 0.00000000614 * Math.cos(3.69094819583 + 6121.8956621783 * t);
-        X0 += 0.00000000603 * Math.cos(0.30175769208 + 181.56270856549 * t);
-        X0 += 0.00000000616 * Math.cos(0.71796395195 + 1144.0716396596 * t);
-        X0 += 0.00000000636 * Math.cos(0.81670492532 + 1751.2957139325 * t);
-        X0 += 0.00000000596 * Math.cos(2.57571835843 + 737.60480372361 * t);
-        X0 += 0.00000000619 * Math.cos(4.37153268900 + 326.1969146957 * t);
-        X0 += 0.00000000787 * Math.cos(1.03322103547 + 1802.12817323829 * t);
-        X0 += 0.00000000781 * Math.cos(3.79546900139 + 88.35873817511 * t);
-        X0 += 0.00000000617 * Math.cos(3.74482275875 + 921.108250802 * t);
-        X0 += 0.00000000591 * Math.cos(2.16133870119 + 1166.1630401874 * t);
-        X0 += 0.00000000590 * Math.cos(5.76599972625 + 3634.37720703489 * t);
-        X0 += 0.00000000722 * Math.cos(2.97658953647 + 1791.5701079414 * t);
-        X0 += 0.00000000820 * Math.cos(4.24711097101 + 1372.08546406621 * t);
-        X0 += 0.00000000590 * Math.cos(4.55770998857 + 627.61093082531 * t);
-        X0 += 0.00000000611 * Math.cos(2.00459977476 + 392.9017584157 * t);
-        X0 += 0.00000000611 * Math.cos(2.33608587361 + 666.96780674051 * t);
-        X0 += 0.00000000584 * Math.cos(5.71119009710 + 2737.5643231735 * t);
-        X0 += 0.00000000624 * Math.cos(1.77518234702 + 702.1800810715 * t);
-        X0 += 0.00000000600 * Math.cos(3.53895345579 + 203.49405039889 * t);
-        X0 += 0.00000000720 * Math.cos(3.17911251266 + 3333.7426971825 * t);
-        X0 += 0.00000000715 * Math.cos(6.07736623315 + 3347.96979118411 * t);
-        X0 += 0.00000000604 * Math.cos(0.54072229600 + 427.3632732213 * t);
-        X0 += 0.00000000578 * Math.cos(0.68384333266 + 881.7513748868 * t);
-        X0 += 0.00000000752 * Math.cos(2.27484845625 + 799.36859435169 * t);
-        X0 += 0.00000000581 * Math.cos(5.43194940731 + 2954.0448123492 * t);
-        X0 += 0.00000000754 * Math.cos(4.23362271932 + 1022.9771847432 * t);
-        X0 += 0.00000000772 * Math.cos(3.22944539114 + 711.7413086271 * t);
-        X0 += 0.00000000577 * Math.cos(3.90731032425 + 700.2079733962 * t);
-        X0 += 0.00000000736 * Math.cos(2.17294584865 + 458.12212942741 * t);
-        X0 += 0.00000000736 * Math.cos(2.16773979972 + 601.7474357288 * t);
-        X0 += 0.00000000693 * Math.cos(4.97718562978 + 1967.96000801901 * t);
-        X0 += 0.00000000740 * Math.cos(2.23775921738 + 416.79314583689 * t);
-        X0 += 0.00000000704 * Math.cos(2.75287525372 + 425.35753565121 * t);
-        X0 += 0.00000000708 * Math.cos(4.59755586960 + 3391.68870348911 * t);
-        X0 += 0.00000000607 * Math.cos(5.77643174191 + 105.76971804189 * t);
-        X0 += 0.00000000559 * Math.cos(4.05584510248 + 20426.8149099055 * t);
-        X0 += 0.00000000628 * Math.cos(6.14517735977 + 1809.72935520611 * t);
-        X0 += 0.00000000696 * Math.cos(3.48103715785 + 378.8871127352 * t);
-        X0 += 0.00000000554 * Math.cos(4.24043679096 + 386.00065973601 * t);
-        X0 += 0.00000000589 * Math.cos(2.84804112106 + 3273.8812003019 * t);
-        X0 += 0.00000000633 * Math.cos(5.05901975525 + 131.16013238639 * t);
-        X0 += 0.00000000562 * Math.cos(2.97186811483 + 4803.9654584435 * t);
-        X0 += 0.00000000560 * Math.cos(4.71048501869 + 421.212934067 * t);
-        X0 += 0.00000000580 * Math.cos(1.24952540618 + 5179.8336002093 * t);
-        X0 += 0.00000000740 * Math.cos(2.67735727689 + 913.5070688342 * t);
-        X0 += 0.00000000699 * Math.cos(1.23224313252 + 2627.3580019541 * t);
-        X0 += 0.00000000699 * Math.cos(1.23224313252 + 2626.8703669871 * t);
-        X0 += 0.00000000747 * Math.cos(1.73127494354 + 90.3187837629 * t);
-        X0 += 0.00000000575 * Math.cos(1.40772978331 + 1656.9847643338 * t);
-        X0 += 0.00000000555 * Math.cos(2.46441478919 + 6702.8043113501 * t);
-        X0 += 0.00000000559 * Math.cos(5.27994346504 + 388.9696051526 * t);
-        X0 += 0.00000000672 * Math.cos(3.95084883531 + 2417.24030025381 * t);
-        X0 += 0.00000000606 * Math.cos(2.25540936996 + 3693.36584417709 * t);
-        X0 += 0.00000000538 * Math.cos(0.92849193558 + 7564.58690325449 * t);
-        X0 += 0.00000000539 * Math.cos(5.86855643077 + 828.16740497 * t);
-        X0 += 0.00000000548 * Math.cos(0.57206390796 + 4700.87268422489 * t);
-        X0 += 0.00000000599 * Math.cos(1.91496502312 + 108.47803102759 * t);
-        X0 += 0.00000000550 * Math.cos(0.94455632585 + 3046.3550108623 * t);
-        X0 += 0.00000000652 * Math.cos(3.44170706330 + 282.20780222929 * t);
-        X0 += 0.00000000586 * Math.cos(4.87892797654 + 878.08234618209 * t);
-        X0 += 0.00000000622 * Math.cos(1.44606819015 + 568.80402352629 * t);
-        X0 += 0.00000000728 * Math.cos(4.06001131597 + 344.45922782439 * t);
-        X0 += 0.00000000544 * Math.cos(3.88849597870 + 10633.0140075697 * t);
-        X0 += 0.00000000657 * Math.cos(2.19781111367 + 464.97504399731 * t);
-        X0 += 0.00000000546 * Math.cos(0.09522235899 + 4112.8504880523 * t);
-        X0 += 0.00000000541 * Math.cos(2.90330545324 + 121.0082039998 * t);
-        X0 += 0.00000000695 * Math.cos(4.33330180196 + 421.6885069465 * t);
-        X0 += 0.00000000601 * Math.cos(0.02013991441 + 426.3207434977 * t);
-        X0 += 0.00000000525 * Math.cos(2.67444074803 + 76674.39271195528 * t);
-        X0 += 0.00000000532 * Math.cos(4.39556016683 + 8734.17515466309 * t);
-        X0 += 0.00000000622 * Math.cos(4.02967281763 + 1091.3814416201 * t);
-        X0 += 0.00000000553 * Math.cos(5.66376860324 + 604.2287461784 * t);
-        X0 += 0.00000000633 * Math.cos(3.70162370380 + 2274.303015153 * t);
-        X0 += 0.00000000564 * Math.cos(1.73577608543 + 241.8540885728 * t);
-        X0 += 0.00000000516 * Math.cos(0.26364140815 + 5599.3182440845 * t);
-        X0 += 0.00000000645 * Math.cos(1.30657929230 + 10110.4365894759 * t);
-        X0 += 0.00000000509 * Math.cos(2.11728726417 + 1159.0494931866 * t);
-        X0 += 0.00000000507 * Math.cos(5.07344432036 + 615.7620814093 * t);
-        X0 += 0.00000000599 * Math.cos(4.14881340222 + 185.2317372702 * t);
-        X0 += 0.00000000522 * Math.cos(0.92209254895 + 1884.36794142151 * t);
-        X0 += 0.00000000520 * Math.cos(2.30383555351 + 1457.2821155785 * t);
-        X0 += 0.00000000527 * Math.cos(0.12531819468 + 1512.56300652469 * t);
-        X0 += 0.00000000503 * Math.cos(3.39203314539 + 1037.7974717033 * t);
-        X0 += 0.00000000517 * Math.cos(5.27606872473 + 6018.8028879597 * t);
-        X0 += 0.00000000613 * Math.cos(1.73070833822 + 607.8977748831 * t);
-        X0 += 0.00000000601 * Math.cos(1.95549963379 + 700.6956083632 * t);
-        X0 += 0.00000000505 * Math.cos(3.18507574383 + 5908.5965667403 * t);
-        X0 += 0.00000000679 * Math.cos(5.71225833484 + 1357.3707350976 * t);
-        X0 += 0.00000000496 * Math.cos(1.76244328747 + 1048.8431719672 * t);
-        X0 += 0.00000000602 * Math.cos(0.81687029998 + 680.98245242101 * t);
-        X0 += 0.00000000621 * Math.cos(3.11600964819 + 1560.3748897971 * t);
-        X0 += 0.00000000623 * Math.cos(2.89379873996 + 120.01136625851 * t);
-        X0 += 0.00000000494 * Math.cos(1.02217524155 + 523.5719951027 * t);
-        X0 += 0.00000000494 * Math.cos(0.17691775323 + 536.29757005351 * t);
-        X0 += 0.00000000500 * Math.cos(0.07757434568 + 2840.6570973921 * t);
-        X0 += 0.00000000657 * Math.cos(1.97087292015 + 2351.0567213956 * t);
-        X0 += 0.00000000587 * Math.cos(5.17430255862 + 215.50295850929 * t);
-        X0 += 0.00000000609 * Math.cos(5.71512479774 + 614.868309532 * t);
-        X0 += 0.00000000609 * Math.cos(2.57353214415 + 614.38067456499 * t);
-        X0 += 0.00000000502 * Math.cos(4.96490318108 + 1379.4621356254 * t);
-        X0 += 0.00000000492 * Math.cos(1.74083007620 + 419.28901050149 * t);
-        X0 += 0.00000000485 * Math.cos(3.23499089371 + 1937.9519113383 * t);
-        X0 += 0.00000000484 * Math.cos(4.83554210114 + 102.0981972097 * t);
-        X0 += 0.00000000491 * Math.cos(4.82626130082 + 419.1926422819 * t);
-        X0 += 0.00000000636 * Math.cos(0.80534214264 + 664.5201261857 * t);
-        X0 += 0.00000000478 * Math.cos(2.68779652903 + 204.97852310719 * t);
-        X0 += 0.00000000494 * Math.cos(4.49966350328 + 2758.9049641759 * t);
-        X0 += 0.00000000495 * Math.cos(3.15153574636 + 398.5308327082 * t);
-        X0 += 0.00000000483 * Math.cos(2.53161064938 + 89.10949770051 * t);
-        X0 += 0.00000000589 * Math.cos(1.83933111516 + 2740.7457169112 * t);
-        X0 += 0.00000000600 * Math.cos(1.57257401507 + 634.512029505 * t);
-        X0 += 0.00000000486 * Math.cos(5.04467319390 + 2203.94120481581 * t);
-        X0 += 0.00000000515 * Math.cos(6.13663617559 + 1091.1183170617 * t);
-        X0 += 0.00000000615 * Math.cos(1.11374614520 + 3700.96702614491 * t);
-        X0 += 0.00000000490 * Math.cos(1.91408549288 + 8631.0823804445 * t);
-        X0 += 0.00000000494 * Math.cos(4.66411522593 + 984.35651413839 * t);
-        X0 += 0.00000000475 * Math.cos(2.27777755361 + 103.59971626049 * t);
-        X0 += 0.00000000475 * Math.cos(2.59023496451 + 835.5440765292 * t);
-        X0 += 0.00000000512 * Math.cos(5.15116159496 + 397.9001853893 * t);
-        X0 += 0.00000000655 * Math.cos(1.80371823253 + 127.22797912329 * t);
-        X0 += 0.00000000468 * Math.cos(0.94842717325 + 582.62498061761 * t);
-        X0 += 0.00000000468 * Math.cos(3.39225847512 + 477.2445845386 * t);
-        X0 += 0.00000000543 * Math.cos(2.77376969444 + 481.1767378017 * t);
-        X0 += 0.00000000543 * Math.cos(1.56691595393 + 578.69282735451 * t);
-        X0 += 0.00000000517 * Math.cos(0.86310995182 + 76.0222537921 * t);
-        X0 += 0.00000000573 * Math.cos(1.37924154661 + 1132.9228735317 * t);
-        X0 += 0.00000000649 * Math.cos(0.37556266722 + 3184.6093831746 * t);
-        X0 += 0.00000000480 * Math.cos(4.52427818977 + 2133.2347718635 * t);
-        X0 += 0.00000000468 * Math.cos(2.06153810948 + 2048.1582325577 * t);
-        X0 += 0.00000000594 * Math.cos(0.39773738437 + 390.9296507404 * t);
-        X0 += 0.00000000459 * Math.cos(1.62165138981 + 937.8860912224 * t);
-        X0 += 0.00000000481 * Math.cos(2.13958103959 + 1443.6856688958 * t);
-        X0 += 0.00000000463 * Math.cos(5.78478013513 + 429.7627696663 * t);
-        X0 += 0.00000000545 * Math.cos(0.16089867082 + 3157.04896704871 * t);
-        X0 += 0.00000000475 * Math.cos(5.50914223201 + 3907.1525745821 * t);
-        X0 += 0.00000000609 * Math.cos(4.81927839884 + 1595.5364878908 * t);
-        X0 += 0.00000000473 * Math.cos(6.26679260619 + 733.67265046051 * t);
-        X0 += 0.00000000541 * Math.cos(1.14751616188 + 52176.0501006319 * t);
-        X0 += 0.00000000533 * Math.cos(5.98390379378 + 382.85289589309 * t);
-        X0 += 0.00000000534 * Math.cos(4.28038540288 + 843.8789716799 * t);
-        X0 += 0.00000000451 * Math.cos(2.42625593348 + 5371.30441967789 * t);
-        X0 += 0.00000000471 * Math.cos(4.45737409056 + 2572.4325716809 * t);
-        X0 += 0.00000000558 * Math.cos(2.14287458249 + 594.8945211589 * t);
-        X0 += 0.00000000588 * Math.cos(1.67758273586 + 458.33457774851 * t);
-        X0 += 0.00000000482 * Math.cos(4.23247478761 + 6114.7821151775 * t);
-        X0 += 0.00000000449 * Math.cos(4.70348907548 + 1221.6047488379 * t);
-        X0 += 0.00000000447 * Math.cos(5.21836347199 + 584.26951202031 * t);
-        X0 += 0.00000000447 * Math.cos(5.40550748355 + 475.6000531359 * t);
-        X0 += 0.00000000466 * Math.cos(3.79996346648 + 632.50629193491 * t);
-        X0 += 0.00000000624 * Math.cos(2.89552279007 + 10529.9212333511 * t);
-        X0 += 0.00000000605 * Math.cos(5.04020796752 + 300.854684461 * t);
-        X0 += 0.00000000487 * Math.cos(2.27435976567 + 321.3015535861 * t);
-        X0 += 0.00000000487 * Math.cos(0.14720235737 + 206.9049388002 * t);
-        X0 += 0.00000000526 * Math.cos(1.60016547325 + 1336.6607414141 * t);
-        X0 += 0.00000000450 * Math.cos(4.45402230413 + 518.62844988331 * t);
-        X0 += 0.00000000450 * Math.cos(3.02825599783 + 541.2411152729 * t);
-        X0 += 0.00000000452 * Math.cos(2.45557763807 + 252.4121538697 * t);
-        X0 += 0.00000000569 * Math.cos(6.06714280091 + 207.426203662 * t);
-        X0 += 0.00000000442 * Math.cos(0.71239558825 + 10976.83498721549 * t);
-        X0 += 0.00000000435 * Math.cos(2.04457315580 + 218.4719039259 * t);
-        X0 += 0.00000000536 * Math.cos(1.16069752348 + 1781.2751672029 * t);
-        X0 += 0.00000000606 * Math.cos(1.47437041783 + 6599.7115371315 * t);
-        X0 += 0.00000000430 * Math.cos(6.27151324176 + 2535.3109279994 * t);
-        X0 += 0.00000000465 * Math.cos(3.76774297614 + 1084.0047700609 * t);
-        X0 += 0.00000000528 * Math.cos(3.23700299396 + 557.75832326239 * t);
-        X0 += 0.00000000602 * Math.cos(1.89096655273 + 354.76872277791 * t);
-        X0 += 0.00000000602 * Math.cos(2.44971909564 + 705.1008423783 * t);
-        X0 += 0.00000000579 * Math.cos(2.05383962420 + 462.05428269051 * t);
-        X0 += 0.00000000579 * Math.cos(2.28684602417 + 597.8152824657 * t);
-        X0 += 0.00000000480 * Math.cos(5.15414760143 + 1106.0961705887 * t);
-        X0 += 0.00000000561 * Math.cos(0.48075957659 + 1859.2381595079 * t);
-        X0 += 0.00000000565 * Math.cos(3.20740832233 + 531.8948281659 * t);
-        X0 += 0.00000000593 * Math.cos(3.87608972833 + 1291.6747912064 * t);
-        X0 += 0.00000000593 * Math.cos(3.87608972833 + 1291.1871562394 * t);
-        X0 += 0.00000000467 * Math.cos(1.83754367407 + 2833.0559154243 * t);
-        X0 += 0.00000000423 * Math.cos(0.03642510895 + 799.8562293187 * t);
-        X0 += 0.00000000591 * Math.cos(2.46012843727 + 1819.3936486257 * t);
-        X0 += 0.00000000442 * Math.cos(1.08908006468 + 1069.18697522831 * t);
-        X0 += 0.00000000538 * Math.cos(1.02927939001 + 1065.35788782919 * t);
-        X0 += 0.00000000472 * Math.cos(2.28157145696 + 460.2946233363 * t);
-        X0 += 0.00000000432 * Math.cos(6.00978313661 + 2080.8746422241 * t);
-        X0 += 0.00000000415 * Math.cos(2.96241779304 + 4760.34895633411 * t);
-        X0 += 0.00000000455 * Math.cos(3.03366464226 + 2527.4466214732 * t);
-        X0 += 0.00000000506 * Math.cos(0.36247155090 + 535.6669227346 * t);
-        X0 += 0.00000000408 * Math.cos(3.08015718534 + 237.4343003427 * t);
-        X0 += 0.00000000558 * Math.cos(1.03001492173 + 2348.087775979 * t);
-        X0 += 0.00000000506 * Math.cos(5.25352948963 + 2424.3538472546 * t);
-        X0 += 0.00000000496 * Math.cos(6.06044529767 + 4120.4516700201 * t);
-        X0 += 0.00000000496 * Math.cos(2.91885264408 + 4119.96403505309 * t);
-        X0 += 0.00000000432 * Math.cos(1.29582024184 + 1301.236018762 * t);
-        X0 += 0.00000000550 * Math.cos(5.43475108780 + 8837.26792888169 * t);
-        X0 += 0.00000000546 * Math.cos(3.31132091883 + 761.98382611181 * t);
-        X0 += 0.00000000546 * Math.cos(0.16972826524 + 761.49619114479 * t);
-        X0 += 0.00000000435 * Math.cos(6.11673595133 + 205.8935468439 * t);
-        X0 += 0.00000000463 * Math.cos(4.32054580531 + 633.5488216585 * t);
-        X0 += 0.00000000408 * Math.cos(1.79247263237 + 1482.55490984399 * t);
-        X0 += 0.00000000483 * Math.cos(0.34268842153 + 2879.2632137819 * t);
-        X0 += 0.00000000511 * Math.cos(3.60313597493 + 1670.5812110165 * t);
-        X0 += 0.00000000421 * Math.cos(5.74575757785 + 638.65663108921 * t);
-        X0 += 0.00000000512 * Math.cos(4.63462743085 + 1474.4299708869 * t);
-        X0 += 0.00000000388 * Math.cos(5.80743867551 + 2425.10460678 * t);
-        X0 += 0.00000000483 * Math.cos(5.61088897560 + 154.0546820663 * t);
-        X0 += 0.00000000412 * Math.cos(3.95817641351 + 83.6234357599 * t);
-        X0 += 0.00000000384 * Math.cos(0.10024887062 + 673.8689054202 * t);
-        X0 += 0.00000000400 * Math.cos(2.77474684816 + 2755.7235704382 * t);
-        X0 += 0.00000000500 * Math.cos(0.77216947100 + 1973.37663399041 * t);
-        X0 += 0.00000000380 * Math.cos(6.00308091678 + 3583.64715792471 * t);
-        X0 += 0.00000000509 * Math.cos(6.23294075938 + 5856.23384163189 * t);
-        X0 += 0.00000000392 * Math.cos(3.41709820264 + 6328.0812106155 * t);
-        X0 += 0.00000000391 * Math.cos(5.34392743186 + 670.89996000361 * t);
-        X0 += 0.00000000397 * Math.cos(5.90731747027 + 50586.48957038109 * t);
-        X0 += 0.00000000468 * Math.cos(5.85291318311 + 1970.9289534356 * t);
-        X0 += 0.00000000491 * Math.cos(6.06026074383 + 1288.7058457898 * t);
-        X0 += 0.00000000491 * Math.cos(2.91866809024 + 1288.21821082279 * t);
-        X0 += 0.00000000472 * Math.cos(5.64551789445 + 416.532513406 * t);
-        X0 += 0.00000000491 * Math.cos(2.66310290421 + 601.5349874077 * t);
-        X0 += 0.00000000476 * Math.cos(0.29096139335 + 2015.42726867629 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 638 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.01912556490 * Math.cos(4.23275123829 + 0.2438174835 * t);
-        X1 += 0.00634902259 * Math.cos(0.10706507632 + 1059.6257476727 * t);
-        X1 += 0.00600483021 * Math.cos(2.42939944495 + 522.8212355773 * t);
-        X1 += 0.00589005176 * Math.cos(1.91564604125 + 537.0483295789 * t);
-        X1 += 0.00081432741 * Math.cos(3.47331266459 + 7.3573644843 * t);
-        X1 += 0.00046191617 * Math.cos(0.45737291603 + 1589.3167127673 * t);
-        X1 += 0.00037242394 * Math.cos(3.38536248935 + 529.9347825781 * t);
-        X1 += 0.00032508552 * Math.cos(1.74680960116 + 1052.51220067191 * t);
-        X1 += 0.00031231184 * Math.cos(2.34701987017 + 1066.7392946735 * t);
-        X1 += 0.00025950740 * Math.cos(5.52780779320 + 529.44714761109 * t);
-        X1 += 0.00020232242 * Math.cos(4.46840569934 + 110.45013870291 * t);
-        X1 += 0.00017941640 * Math.cos(4.02099530935 + 426.8420083595 * t);
-        X1 += 0.00013643757 * Math.cos(0.30427911223 + 633.0275567967 * t);
-        X1 += 0.00012962263 * Math.cos(2.56767956763 + 515.70768857651 * t);
-        X1 += 0.00009123979 * Math.cos(1.78092724073 + 544.1618765797 * t);
-        X1 += 0.00008098978 * Math.cos(6.15662077289 + 949.4194264533 * t);
-        X1 += 0.00007143102 * Math.cos(3.17367507069 + 323.74923414091 * t);
-        X1 += 0.00004115125 * Math.cos(4.68496126162 + 205.9417309537 * t);
-        X1 += 0.00004370464 * Math.cos(1.14540545130 + 736.1203310153 * t);
-        X1 += 0.00003400571 * Math.cos(2.90100216943 + 526.7533888404 * t);
-        X1 += 0.00003332481 * Math.cos(1.43702485996 + 533.1161763158 * t);
-        X1 += 0.00003869655 * Math.cos(3.33803842759 + 14.47091148511 * t);
-        X1 += 0.00003043986 * Math.cos(1.65416267419 + 526.00262931501 * t);
-        X1 += 0.00003013156 * Math.cos(2.59693904643 + 419.72846135871 * t);
-        X1 += 0.00003001886 * Math.cos(2.68361926800 + 533.8669358412 * t);
-        X1 += 0.00002892493 * Math.cos(4.90922246003 + 103.3365917021 * t);
-        X1 += 0.00002393125 * Math.cos(3.62223412280 + 316.6356871401 * t);
-        X1 += 0.00002989944 * Math.cos(0.80713415295 + 2119.00767786191 * t);
-        X1 += 0.00002354966 * Math.cos(3.28995924205 + 109.9625037359 * t);
-        X1 += 0.00001853775 * Math.cos(2.76966317285 + 1596.43025976811 * t);
-        X1 += 0.00001972856 * Math.cos(5.08955117905 + 956.53297345411 * t);
-        X1 += 0.00001820762 * Math.cos(0.66887392674 + 743.23387801611 * t);
-        X1 += 0.00001810752 * Math.cos(3.83905864684 + 95.7354097343 * t);
-        X1 += 0.00001531701 * Math.cos(4.31865285485 + 117.5636857037 * t);
-        X1 += 0.00001894874 * Math.cos(1.86455327598 + 1582.2031657665 * t);
-        X1 += 0.00001527752 * Math.cos(1.49162793541 + 640.1411037975 * t);
-        X1 += 0.00001634391 * Math.cos(1.39765618229 + 1045.3986536711 * t);
-        X1 += 0.00001088512 * Math.cos(1.51681538001 + 625.9140097959 * t);
-        X1 += 0.00001025988 * Math.cos(2.57282118549 + 433.9555553603 * t);
-        X1 += 0.00001045564 * Math.cos(2.53075471830 + 1265.81129610991 * t);
-        X1 += 0.00000977087 * Math.cos(2.19851142066 + 220.6564599223 * t);
-        X1 += 0.00000984636 * Math.cos(1.42900900580 + 1169.83206889211 * t);
-        X1 += 0.00000805130 * Math.cos(0.01887809686 + 942.3058794525 * t);
-        X1 += 0.00000821829 * Math.cos(5.66460920839 + 309.0345051723 * t);
-        X1 += 0.00000798891 * Math.cos(1.85669438695 + 1155.6049748905 * t);
-        X1 += 0.00000834956 * Math.cos(5.16168526363 + 522.3336006103 * t);
-        X1 += 0.00000600935 * Math.cos(2.35527790752 + 6.86972951729 * t);
-        X1 += 0.00000752130 * Math.cos(0.12867542563 + 1162.7185218913 * t);
-        X1 += 0.00000539923 * Math.cos(4.24283648453 + 853.4401992355 * t);
-        X1 += 0.00000599196 * Math.cos(4.21898955063 + 213.0552779545 * t);
-        X1 += 0.00000497018 * Math.cos(4.81516413781 + 198.82818395289 * t);
-        X1 += 0.00000476930 * Math.cos(5.90061449066 + 1692.40948698591 * t);
-        X1 += 0.00000499703 * Math.cos(3.02089381667 + 330.8627811417 * t);
-        X1 += 0.00000383795 * Math.cos(2.17189096891 + 1073.85284167431 * t);
-        X1 += 0.00000504945 * Math.cos(5.88136662932 + 1059.1381127057 * t);
-        X1 += 0.00000402231 * Math.cos(6.21084762941 + 1479.11039154791 * t);
-        X1 += 0.00000373538 * Math.cos(1.28962855954 + 729.0067840145 * t);
-        X1 += 0.00000349467 * Math.cos(3.10812701391 + 426.3543733925 * t);
-        X1 += 0.00000316847 * Math.cos(2.11759539145 + 839.2131052339 * t);
-        X1 += 0.00000324562 * Math.cos(5.71130479446 + 206.42936592071 * t);
-        X1 += 0.00000246849 * Math.cos(4.10602399001 + 838.72547026689 * t);
-        X1 += 0.00000255191 * Math.cos(3.62607142490 + 412.12727939089 * t);
-        X1 += 0.00000230121 * Math.cos(2.72254614569 + 508.5941415757 * t);
-        X1 += 0.00000246851 * Math.cos(1.75011280000 + 1272.9248431107 * t);
-        X1 += 0.00000222270 * Math.cos(2.70702942772 + 412.6149143579 * t);
-        X1 += 0.00000213383 * Math.cos(2.90120840681 + 1376.0176173293 * t);
-        X1 += 0.00000225567 * Math.cos(5.42992965137 + 625.42637482889 * t);
-        X1 += 0.00000212049 * Math.cos(3.04058050625 + 3.42521122121 * t);
-        X1 += 0.00000181234 * Math.cos(3.64994746675 + 1368.9040703285 * t);
-        X1 += 0.00000174181 * Math.cos(1.85281706799 + 1062.80714141041 * t);
-        X1 += 0.00000189391 * Math.cos(1.15749117460 + 2648.6986429565 * t);
-        X1 += 0.00000161119 * Math.cos(3.02399692553 + 519.63984183961 * t);
-        X1 += 0.00000157874 * Math.cos(1.64594194339 + 536.5606946119 * t);
-        X1 += 0.00000145420 * Math.cos(2.71846376946 + 1258.6977491091 * t);
-        X1 += 0.00000144205 * Math.cos(2.08426886196 + 1055.6935944096 * t);
-        X1 += 0.00000143507 * Math.cos(3.70576716798 + 309.5221401393 * t);
-        X1 += 0.00000126188 * Math.cos(3.31694506826 + 1063.55790093581 * t);
-        X1 += 0.00000124788 * Math.cos(1.62052640087 + 551.27542358051 * t);
-        X1 += 0.00000125329 * Math.cos(1.31439998076 + 540.2297233166 * t);
-        X1 += 0.00000146669 * Math.cos(2.72335559452 + 1056.444353935 * t);
-        X1 += 0.00000115893 * Math.cos(3.18162677570 + 2126.1212248627 * t);
-        X1 += 0.00000124485 * Math.cos(0.17472854156 + 3.6883357796 * t);
-        X1 += 0.00000118218 * Math.cos(4.80555513709 + 515.2200536095 * t);
-        X1 += 0.00000114208 * Math.cos(2.05820677440 + 227.77000692311 * t);
-        X1 += 0.00000113852 * Math.cos(2.70245764618 + 742.74624304909 * t);
-        X1 += 0.00000144447 * Math.cos(6.08317056171 + 1486.2239385487 * t);
-        X1 += 0.00000124849 * Math.cos(1.63225929060 + 1575.08961876571 * t);
-        X1 += 0.00000093951 * Math.cos(3.84985265371 + 1155.1173399235 * t);
-        X1 += 0.00000100599 * Math.cos(2.02088520418 + 2111.8941308611 * t);
-        X1 += 0.00000103583 * Math.cos(5.06428969516 + 419.2408263917 * t);
-        X1 += 0.00000092556 * Math.cos(1.85907721166 + 1699.5230339867 * t);
-        X1 += 0.00000099479 * Math.cos(5.78783063560 + 301.9209581715 * t);
-        X1 += 0.00000082832 * Math.cos(1.28886276595 + 441.06910236111 * t);
-        X1 += 0.00000086688 * Math.cos(5.09274860535 + 941.8182444855 * t);
-        X1 += 0.00000095969 * Math.cos(2.12504520091 + 102.84895673509 * t);
-        X1 += 0.00000080324 * Math.cos(0.88712083078 + 1471.9968445471 * t);
-        X1 += 0.00000102333 * Math.cos(3.18857661435 + 21.5844584859 * t);
-        X1 += 0.00000078195 * Math.cos(5.09322017801 + 525.26891613211 * t);
-        X1 += 0.00000074123 * Math.cos(1.57689883069 + 647.25465079831 * t);
-        X1 += 0.00000079270 * Math.cos(3.27341766644 + 728.5191490475 * t);
-        X1 += 0.00000074807 * Math.cos(5.52867705621 + 534.6006490241 * t);
-        X1 += 0.00000087759 * Math.cos(4.16413990980 + 632.5399218297 * t);
-        X1 += 0.00000069800 * Math.cos(2.80403510206 + 618.8004627951 * t);
-        X1 += 0.00000060886 * Math.cos(4.07058850374 + 846.3266522347 * t);
-        X1 += 0.00000058777 * Math.cos(2.25774461225 + 832.0995582331 * t);
-        X1 += 0.00000061003 * Math.cos(6.24178613664 + 2222.1004520805 * t);
-        X1 += 0.00000066693 * Math.cos(2.28288216120 + 1685.2959399851 * t);
-        X1 += 0.00000050999 * Math.cos(5.78085041063 + 2008.8013566425 * t);
-        X1 += 0.00000050585 * Math.cos(4.75410728625 + 213.5429129215 * t);
-        X1 += 0.00000045850 * Math.cos(4.24082041831 + 831.6119232661 * t);
-        X1 += 0.00000052339 * Math.cos(1.38343334733 + 1038.2851066703 * t);
-        X1 += 0.00000046409 * Math.cos(2.49832780835 + 524.5181566067 * t);
-        X1 += 0.00000049446 * Math.cos(2.75500829134 + 963.6465204549 * t);
-        X1 += 0.00000045782 * Math.cos(1.84235784093 + 535.35140854951 * t);
-        X1 += 0.00000061385 * Math.cos(2.63233647245 + 1795.5022612045 * t);
-        X1 += 0.00000058958 * Math.cos(2.91371154675 + 316.14805217309 * t);
-        X1 += 0.00000059833 * Math.cos(4.54238626333 + 4.1759707466 * t);
-        X1 += 0.00000043525 * Math.cos(0.40754709239 + 149.8070146181 * t);
-        X1 += 0.00000039973 * Math.cos(4.82513939066 + 1383.13116433011 * t);
-        X1 += 0.00000053170 * Math.cos(1.55759345804 + 750.3474250169 * t);
-        X1 += 0.00000039316 * Math.cos(3.58850609580 + 1471.50920958009 * t);
-        X1 += 0.00000040288 * Math.cos(1.77691319997 + 948.9317914863 * t);
-        X1 += 0.00000038303 * Math.cos(1.25612538854 + 511.7755353134 * t);
-        X1 += 0.00000036523 * Math.cos(3.08500012455 + 548.0940298428 * t);
-        X1 += 0.00000038571 * Math.cos(4.79060991224 + 1258.21011414209 * t);
-        X1 += 0.00000035601 * Math.cos(2.81741907830 + 10.538758222 * t);
-        X1 += 0.00000036868 * Math.cos(1.53995872607 + 527.01402127131 * t);
-        X1 += 0.00000036603 * Math.cos(2.80095469601 + 532.8555438849 * t);
-        X1 += 0.00000041197 * Math.cos(3.47741533158 + 845.8390172677 * t);
-        X1 += 0.00000030575 * Math.cos(4.13554799825 + 124.6772327045 * t);
-        X1 += 0.00000027619 * Math.cos(1.69648523137 + 1802.6158082053 * t);
-        X1 += 0.00000032289 * Math.cos(5.50255743191 + 618.3128278281 * t);
-        X1 += 0.00000028470 * Math.cos(3.04847955006 + 1044.9110187041 * t);
-        X1 += 0.00000025452 * Math.cos(1.34642958378 + 1265.32366114289 * t);
-        X1 += 0.00000027183 * Math.cos(2.69831398387 + 1898.5950354231 * t);
-        X1 += 0.00000022512 * Math.cos(0.44856506675 + 639.6534688305 * t);
-        X1 += 0.00000022622 * Math.cos(0.18357944836 + 935.19233245171 * t);
-        X1 += 0.00000024508 * Math.cos(3.71033407609 + 1361.79052332771 * t);
-        X1 += 0.00000025260 * Math.cos(1.81233714136 + 540.98048284201 * t);
-        X1 += 0.00000020677 * Math.cos(3.98002843517 + 1148.00379292269 * t);
-        X1 += 0.00000028190 * Math.cos(3.07761522702 + 1905.70858242391 * t);
-        X1 += 0.00000020297 * Math.cos(3.81657536112 + 1162.23088692429 * t);
-        X1 += 0.00000025685 * Math.cos(1.55199744523 + 735.6326960483 * t);
-        X1 += 0.00000019769 * Math.cos(5.53593575435 + 11.2895177474 * t);
-        X1 += 0.00000017928 * Math.cos(3.04845555075 + 98.91680347199 * t);
-        X1 += 0.00000017469 * Math.cos(3.32708371179 + 1787.9010792367 * t);
-        X1 += 0.00000018703 * Math.cos(4.50425954841 + 1574.6019837987 * t);
-        X1 += 0.00000018135 * Math.cos(3.93430947434 + 910.0625505381 * t);
-        X1 += 0.00000017089 * Math.cos(2.56125921461 + 1603.5438067689 * t);
-        X1 += 0.00000017538 * Math.cos(6.04152227093 + 525.7419968841 * t);
-        X1 += 0.00000017368 * Math.cos(4.58219600456 + 534.1275682721 * t);
-        X1 += 0.00000019204 * Math.cos(2.23161769695 + 1375.52998236229 * t);
-        X1 += 0.00000017455 * Math.cos(0.10703246236 + 76.50988875911 * t);
-        X1 += 0.00000016153 * Math.cos(4.30082408762 + 99.6675629974 * t);
-        X1 += 0.00000016460 * Math.cos(2.09636027394 + 1788.38871420371 * t);
-        X1 += 0.00000015683 * Math.cos(3.99052583747 + 2.9375762542 * t);
-        X1 += 0.00000016034 * Math.cos(4.98317709627 + 191.7146369521 * t);
-        X1 += 0.00000015051 * Math.cos(2.78980787117 + 106.0303504728 * t);
-        X1 += 0.00000014892 * Math.cos(1.77707927575 + 518.8890823142 * t);
-        X1 += 0.00000015187 * Math.cos(6.07616641818 + 1588.82907780029 * t);
-        X1 += 0.00000017388 * Math.cos(4.43775098797 + 18.40306474821 * t);
-        X1 += 0.00000014796 * Math.cos(2.06469993479 + 1049.3308069342 * t);
-        X1 += 0.00000015408 * Math.cos(4.06617777635 + 106.5179854398 * t);
-        X1 += 0.00000017378 * Math.cos(0.47153358689 + 88.6218627335 * t);
-        X1 += 0.00000013474 * Math.cos(1.04099539964 + 1581.7155307995 * t);
-        X1 += 0.00000013574 * Math.cos(4.03698274106 + 106.7811099982 * t);
-        X1 += 0.00000017733 * Math.cos(3.53345150510 + 860.55374623631 * t);
-        X1 += 0.00000014099 * Math.cos(5.20790939624 + 934.70469748469 * t);
-        X1 += 0.00000014690 * Math.cos(2.86077681205 + 337.9763281425 * t);
-        X1 += 0.00000011717 * Math.cos(1.50309851310 + 3178.38960805111 * t);
-        X1 += 0.00000010988 * Math.cos(2.13993350041 + 2214.98690507971 * t);
-        X1 += 0.00000010909 * Math.cos(0.16362139771 + 1052.02456570489 * t);
-        X1 += 0.00000011465 * Math.cos(2.83736836823 + 1361.3028883607 * t);
-        X1 += 0.00000010506 * Math.cos(1.65935656006 + 2104.7805838603 * t);
-        X1 += 0.00000012808 * Math.cos(5.23966663914 + 96.2230447013 * t);
-        X1 += 0.00000013402 * Math.cos(1.46045916222 + 721.8932370137 * t);
-        X1 += 0.00000010003 * Math.cos(3.71949533579 + 1464.3956625793 * t);
-        X1 += 0.00000011029 * Math.cos(4.75763401948 + 604.7163811454 * t);
-        X1 += 0.00000009807 * Math.cos(5.38496623744 + 107.2687449652 * t);
-        X1 += 0.00000011312 * Math.cos(1.04980298350 + 220.16882495529 * t);
-        X1 += 0.00000010028 * Math.cos(5.51845919925 + 497.69145366371 * t);
-        X1 += 0.00000009515 * Math.cos(4.20231641978 + 1890.9938534553 * t);
-        X1 += 0.00000010988 * Math.cos(0.55033431492 + 2015.9149036433 * t);
-        X1 += 0.00000010134 * Math.cos(2.26013428987 + 1592.498106505 * t);
-        X1 += 0.00000008954 * Math.cos(5.58285753900 + 10.8018827804 * t);
-        X1 += 0.00000008739 * Math.cos(3.10143619037 + 91.8032564712 * t);
-        X1 += 0.00000008399 * Math.cos(2.39323702495 + 1148.49142788971 * t);
-        X1 += 0.00000008408 * Math.cos(2.53671229460 + 1585.38455950421 * t);
-        X1 += 0.00000009230 * Math.cos(5.10523054826 + 562.1781114925 * t);
-        X1 += 0.00000008186 * Math.cos(3.07470498245 + 2104.2929488933 * t);
-        X1 += 0.00000008259 * Math.cos(3.79122069331 + 302.40859313851 * t);
-        X1 += 0.00000009900 * Math.cos(3.08797905190 + 1478.62275658089 * t);
-        X1 += 0.00000010878 * Math.cos(3.84174776466 + 113.6315324406 * t);
-        X1 += 0.00000009582 * Math.cos(5.95011959797 + 455.1531840108 * t);
-        X1 += 0.00000007712 * Math.cos(2.87491912382 + 422.9098550964 * t);
-        X1 += 0.00000007595 * Math.cos(1.59710858352 + 629.846163059 * t);
-        X1 += 0.00000008496 * Math.cos(2.61146913566 + 224.5886131854 * t);
-        X1 += 0.00000007414 * Math.cos(2.03258534769 + 39.1130584317 * t);
-        X1 += 0.00000007292 * Math.cos(2.69782256595 + 430.02340209721 * t);
-        X1 += 0.00000007357 * Math.cos(3.64822171992 + 2655.8121899573 * t);
-        X1 += 0.00000007633 * Math.cos(1.32269581525 + 636.95971005981 * t);
-        X1 += 0.00000007369 * Math.cos(2.28675718790 + 2229.2139990813 * t);
-        X1 += 0.00000007258 * Math.cos(4.08894525395 + 423.66061462181 * t);
-        X1 += 0.00000007648 * Math.cos(2.32798852949 + 2001.68780964171 * t);
-        X1 += 0.00000008081 * Math.cos(2.88299363492 + 1586.13531902961 * t);
-        X1 += 0.00000007334 * Math.cos(5.14442280849 + 529.1840230527 * t);
-        X1 += 0.00000007334 * Math.cos(5.47944814706 + 530.68554210351 * t);
-        X1 += 0.00000007088 * Math.cos(2.33493448028 + 13.9832765181 * t);
-        X1 += 0.00000006944 * Math.cos(2.85039309523 + 99.40443843901 * t);
-        X1 += 0.00000007575 * Math.cos(5.37079456066 + 121.4958389668 * t);
-        X1 += 0.00000006848 * Math.cos(0.78796625546 + 1898.10740045609 * t);
-        X1 += 0.00000006870 * Math.cos(1.15013907149 + 1158.78636862821 * t);
-        X1 += 0.00000006772 * Math.cos(5.07892665697 + 1048.58004740881 * t);
-        X1 += 0.00000007746 * Math.cos(1.97831751281 + 1691.9218520189 * t);
-        X1 += 0.00000006468 * Math.cos(0.83654880503 + 1165.89991562901 * t);
-        X1 += 0.00000006936 * Math.cos(0.21365116245 + 953.3515797164 * t);
-        X1 += 0.00000006382 * Math.cos(2.33142676077 + 1159.53712815361 * t);
-        X1 += 0.00000006464 * Math.cos(3.96902820569 + 113.89465699899 * t);
-        X1 += 0.00000006270 * Math.cos(1.41636529387 + 387.4851324443 * t);
-        X1 += 0.00000006557 * Math.cos(0.09772332548 + 636.2089505344 * t);
-        X1 += 0.00000007405 * Math.cos(3.41801223400 + 405.5013673571 * t);
-        X1 += 0.00000006424 * Math.cos(2.56898493091 + 312.70353387701 * t);
-        X1 += 0.00000006311 * Math.cos(4.22916699759 + 983.3596763971 * t);
-        X1 += 0.00000007257 * Math.cos(4.97217454857 + 1251.0965671413 * t);
-        X1 += 0.00000006999 * Math.cos(1.52695047635 + 323.2615991739 * t);
-        X1 += 0.00000005842 * Math.cos(2.07617926504 + 1166.6506751544 * t);
-        X1 += 0.00000006084 * Math.cos(6.08154567006 + 2538.4923217371 * t);
-        X1 += 0.00000005618 * Math.cos(1.65396088949 + 71.09326278771 * t);
-        X1 += 0.00000005590 * Math.cos(1.91532661942 + 234.8835539239 * t);
-        X1 += 0.00000005829 * Math.cos(0.16935049171 + 1041.466500408 * t);
-        X1 += 0.00000006815 * Math.cos(4.44264173400 + 305.10235190919 * t);
-        X1 += 0.00000005423 * Math.cos(5.67735456927 + 114.38229196601 * t);
-        X1 += 0.00000005434 * Math.cos(2.90645289424 + 1251.5842021083 * t);
-        X1 += 0.00000005984 * Math.cos(2.75504343237 + 319.8170808778 * t);
-        X1 += 0.00000005352 * Math.cos(2.47648610539 + 415.7963080956 * t);
-        X1 += 0.00000005826 * Math.cos(2.69993180753 + 1891.4814884223 * t);
-        X1 += 0.00000005519 * Math.cos(3.64099912123 + 1593.2488660304 * t);
-        X1 += 0.00000005189 * Math.cos(0.91842109203 + 448.1826493619 * t);
-        X1 += 0.00000005286 * Math.cos(4.46266267934 + 505.5557601899 * t);
-        X1 += 0.00000005876 * Math.cos(4.11769538608 + 459.0853372739 * t);
-        X1 += 0.00000005578 * Math.cos(4.41596318124 + 437.8877086234 * t);
-        X1 += 0.00000004953 * Math.cos(3.44649774547 + 1780.78753223589 * t);
-        X1 += 0.00000004928 * Math.cos(4.68268114080 + 199.3158189199 * t);
-        X1 += 0.00000004972 * Math.cos(6.16120827874 + 554.31380496631 * t);
-        X1 += 0.00000004889 * Math.cos(3.00346445874 + 117.0760507367 * t);
-        X1 += 0.00000005942 * Math.cos(3.32585444966 + 512.5262948388 * t);
-        X1 += 0.00000004807 * Math.cos(1.83942967124 + 494.510059926 * t);
-        X1 += 0.00000005528 * Math.cos(3.37702275374 + 430.7741616226 * t);
-        X1 += 0.00000004806 * Math.cos(4.93123850862 + 956.04533848709 * t);
-        X1 += 0.00000006190 * Math.cos(0.33303059089 + 2751.79141717511 * t);
-        X1 += 0.00000005306 * Math.cos(1.69049301545 + 1069.92068841121 * t);
-        X1 += 0.00000004939 * Math.cos(3.92798617287 + 2207.38572311189 * t);
-        X1 += 0.00000005203 * Math.cos(1.87963213473 + 498.91529394111 * t);
-        X1 += 0.00000004397 * Math.cos(2.50128659500 + 565.35950523021 * t);
-        X1 += 0.00000004342 * Math.cos(2.91932588132 + 672.3844327119 * t);
-        X1 += 0.00000004528 * Math.cos(2.64641812201 + 1677.6947580173 * t);
-        X1 += 0.00000004334 * Math.cos(3.43386241697 + 611.6869157943 * t);
-        X1 += 0.00000004608 * Math.cos(0.94871692824 + 679.4979797127 * t);
-        X1 += 0.00000004812 * Math.cos(2.46105351857 + 560.9542712151 * t);
-        X1 += 0.00000004305 * Math.cos(3.17292686307 + 1070.6714479366 * t);
-        X1 += 0.00000004662 * Math.cos(6.19278511564 + 621.98185653281 * t);
-        X1 += 0.00000004362 * Math.cos(0.81856641043 + 81.50831573269 * t);
-        X1 += 0.00000004781 * Math.cos(0.23034918069 + 600.7842278823 * t);
-        X1 += 0.00000004148 * Math.cos(1.91465810869 + 1080.9663886751 * t);
-        X1 += 0.00000004478 * Math.cos(0.83734666663 + 629.0954035336 * t);
-        X1 += 0.00000004108 * Math.cos(1.85129748483 + 644.0732570606 * t);
-        X1 += 0.00000004654 * Math.cos(4.97986041266 + 508.10650660869 * t);
-        X1 += 0.00000004260 * Math.cos(4.99902513065 + 209.87388421679 * t);
-        X1 += 0.00000005131 * Math.cos(0.48588112186 + 946.23803271561 * t);
-        X1 += 0.00000003845 * Math.cos(1.59767295215 + 970.7600674557 * t);
-        X1 += 0.00000003839 * Math.cos(2.82406421175 + 2420.68481854989 * t);
-        X1 += 0.00000003898 * Math.cos(5.93876139914 + 1064.29161411871 * t);
-        X1 += 0.00000004274 * Math.cos(2.31117388618 + 31.9995114309 * t);
-        X1 += 0.00000003986 * Math.cos(5.18457061537 + 952.60082019101 * t);
-        X1 += 0.00000003880 * Math.cos(5.29550041805 + 504.8050006645 * t);
-        X1 += 0.00000005205 * Math.cos(2.65346011281 + 1795.0146262375 * t);
-        X1 += 0.00000003879 * Math.cos(1.78725414335 + 747.1660312792 * t);
-        X1 += 0.00000003965 * Math.cos(1.33979952763 + 501.62360692681 * t);
-        X1 += 0.00000004541 * Math.cos(1.67944661862 + 757.4609720177 * t);
-        X1 += 0.00000003663 * Math.cos(2.53934739854 + 2318.0796792983 * t);
-        X1 += 0.00000004938 * Math.cos(5.95351997396 + 294.80741117069 * t);
-        X1 += 0.00000003643 * Math.cos(5.32837052634 + 555.0645644917 * t);
-        X1 += 0.00000003850 * Math.cos(1.68007336193 + 835.28095197081 * t);
-        X1 += 0.00000003693 * Math.cos(3.00088611994 + 558.2459582294 * t);
-        X1 += 0.00000003818 * Math.cos(5.13364214511 + 2325.1932262991 * t);
-        X1 += 0.00000003422 * Math.cos(0.51968162936 + 2214.4992701127 * t);
-        X1 += 0.00000003726 * Math.cos(1.58879941368 + 740.0524842784 * t);
-        X1 += 0.00000003306 * Math.cos(2.13594948327 + 2641.5850959557 * t);
-        X1 += 0.00000003331 * Math.cos(2.97883947073 + 501.4805945749 * t);
-        X1 += 0.00000003289 * Math.cos(2.06996431796 + 1066.2516597065 * t);
-        X1 += 0.00000004224 * Math.cos(0.94453108652 + 547.34327031741 * t);
-        X1 += 0.00000003214 * Math.cos(6.21073356050 + 498.4422131891 * t);
-        X1 += 0.00000003771 * Math.cos(3.19812168530 + 1493.3374855495 * t);
-        X1 += 0.00000003357 * Math.cos(4.06089125495 + 1272.4372081437 * t);
-        X1 += 0.00000003469 * Math.cos(3.39231437882 + 1678.1823929843 * t);
-        X1 += 0.00000003147 * Math.cos(0.44528787143 + 654.3681977991 * t);
-        X1 += 0.00000003122 * Math.cos(5.26948049817 + 1912.8221294247 * t);
-        X1 += 0.00000003766 * Math.cos(1.55302482141 + 1567.9760717649 * t);
-        X1 += 0.00000003766 * Math.cos(4.69461747500 + 1567.48843679789 * t);
-        X1 += 0.00000003651 * Math.cos(1.76784115018 + 2008.3137216755 * t);
-        X1 += 0.00000003350 * Math.cos(3.60014817718 + 6276.2061204741 * t);
-        X1 += 0.00000002969 * Math.cos(4.41313741154 + 561.4273519671 * t);
-        X1 += 0.00000002926 * Math.cos(2.44841800418 + 824.9860112323 * t);
-        X1 += 0.00000003251 * Math.cos(3.05741893468 + 6290.4332144757 * t);
-        X1 += 0.00000003134 * Math.cos(5.02262053935 + 10206.4158166937 * t);
-        X1 += 0.00000003154 * Math.cos(2.88790610293 + 483.4643596621 * t);
-        X1 += 0.00000002968 * Math.cos(2.52814022000 + 597.60283414461 * t);
-        X1 += 0.00000003023 * Math.cos(5.26034603701 + 938.3737261894 * t);
-        X1 += 0.00000003496 * Math.cos(5.37662649242 + 1054.9598812267 * t);
-        X1 += 0.00000002718 * Math.cos(1.12612274568 + 1151.6728216274 * t);
-        X1 += 0.00000003041 * Math.cos(4.48045335531 + 10220.6429106953 * t);
-        X1 += 0.00000002652 * Math.cos(1.50411451235 + 960.4651267172 * t);
-        X1 += 0.00000002720 * Math.cos(2.58012487497 + 326.9306278786 * t);
-        X1 += 0.00000002672 * Math.cos(2.37743868437 + 537.7990891043 * t);
-        X1 += 0.00000002672 * Math.cos(1.96324696400 + 522.0704760519 * t);
-        X1 += 0.00000002641 * Math.cos(1.93870259756 + 2531.3787747363 * t);
-        X1 += 0.00000002658 * Math.cos(2.71532856876 + 1062.0734282275 * t);
-        X1 += 0.00000002567 * Math.cos(2.71690582841 + 415.3086731286 * t);
-        X1 += 0.00000002847 * Math.cos(2.92204886379 + 1176.9456158929 * t);
-        X1 += 0.00000002545 * Math.cos(0.06405909754 + 1098.9826235879 * t);
-        X1 += 0.00000002658 * Math.cos(0.64454112605 + 1057.1780671179 * t);
-        X1 += 0.00000003084 * Math.cos(4.14043630979 + 320.5678404032 * t);
-        X1 += 0.00000003075 * Math.cos(1.56268674394 + 462.2667310116 * t);
-        X1 += 0.00000002804 * Math.cos(1.45328370683 + 576.4052054941 * t);
-        X1 += 0.00000002606 * Math.cos(3.64826504072 + 2523.7775927685 * t);
-        X1 += 0.00000003000 * Math.cos(2.08528609490 + 230.3207533419 * t);
-        X1 += 0.00000002425 * Math.cos(2.52434943707 + 422.42222012939 * t);
-        X1 += 0.00000002483 * Math.cos(3.69036238721 + 209.12312469139 * t);
-        X1 += 0.00000002390 * Math.cos(0.07414982415 + 210.36151918381 * t);
-        X1 += 0.00000002327 * Math.cos(3.99650789580 + 416.059432654 * t);
-        X1 += 0.00000002797 * Math.cos(1.87832948272 + 2332.3067732999 * t);
-        X1 += 0.00000002273 * Math.cos(4.89984409290 + 945.48727319021 * t);
-        X1 += 0.00000002980 * Math.cos(5.28454893190 + 202.760337216 * t);
-        X1 += 0.00000002267 * Math.cos(3.20625354263 + 2097.1794018925 * t);
-        X1 += 0.00000002330 * Math.cos(4.18274089040 + 849.5080459724 * t);
-        X1 += 0.00000002940 * Math.cos(2.32020734015 + 2111.40649589409 * t);
-        X1 += 0.00000002403 * Math.cos(6.15190475337 + 433.46792039329 * t);
-        X1 += 0.00000002256 * Math.cos(2.98060305636 + 1054.20912170131 * t);
-        X1 += 0.00000002203 * Math.cos(5.95488550794 + 217.4750661846 * t);
-        X1 += 0.00000002189 * Math.cos(4.68499930418 + 1514.53511420 * t);
-        X1 += 0.00000002120 * Math.cos(3.75884388832 + 423.17297965479 * t);
-        X1 += 0.00000002093 * Math.cos(1.34498726275 + 543.6742416127 * t);
-        X1 += 0.00000002373 * Math.cos(4.97528466796 + 536.1545577016 * t);
-        X1 += 0.00000002373 * Math.cos(5.64858628759 + 523.71500745461 * t);
-        X1 += 0.00000002040 * Math.cos(2.72132861555 + 988.7763023685 * t);
-        X1 += 0.00000002105 * Math.cos(3.22262200918 + 1059.5775635629 * t);
-        X1 += 0.00000002005 * Math.cos(1.80102545599 + 460.7822583033 * t);
-        X1 += 0.00000001997 * Math.cos(1.58652758554 + 504.66198831261 * t);
-        X1 += 0.00000002033 * Math.cos(2.03694665564 + 1173.7642221552 * t);
-        X1 += 0.00000001976 * Math.cos(3.51326639371 + 46.71424039951 * t);
-        X1 += 0.00000002284 * Math.cos(1.65248273100 + 531.5793139808 * t);
-        X1 += 0.00000002284 * Math.cos(2.68820291737 + 528.29025117541 * t);
-        X1 += 0.00000002219 * Math.cos(5.00103752698 + 5230.5636493195 * t);
-        X1 += 0.00000002084 * Math.cos(5.36575264228 + 490.5779066629 * t);
-        X1 += 0.00000002020 * Math.cos(4.84607190143 + 568.0678182159 * t);
-        X1 += 0.00000001939 * Math.cos(2.20836538491 + 1065.0423736441 * t);
-        X1 += 0.00000001972 * Math.cos(2.67204098380 + 2428.2860005177 * t);
-        X1 += 0.00000002080 * Math.cos(3.74170619496 + 194.89603068979 * t);
-        X1 += 0.00000001994 * Math.cos(5.72172751294 + 749.8597900499 * t);
-        X1 += 0.00000001905 * Math.cos(3.51155751559 + 1077.7849949374 * t);
-        X1 += 0.00000001909 * Math.cos(2.72297523968 + 2737.0766882065 * t);
-        X1 += 0.00000001874 * Math.cos(2.75415806536 + 555.2075768436 * t);
-        X1 += 0.00000002388 * Math.cos(4.22827702093 + 334.7949344048 * t);
-        X1 += 0.00000002111 * Math.cos(5.51827565803 + 5216.33655531789 * t);
-        X1 += 0.00000002086 * Math.cos(3.31238187572 + 1062.5465089795 * t);
-        X1 += 0.00000002063 * Math.cos(0.14160166361 + 9160.77334553909 * t);
-        X1 += 0.00000001930 * Math.cos(2.31808019838 + 2207.8733580789 * t);
-        X1 += 0.00000001877 * Math.cos(1.77046886437 + 732.93893727761 * t);
-        X1 += 0.00000001836 * Math.cos(2.50051244655 + 1994.08662767389 * t);
-        X1 += 0.00000001907 * Math.cos(4.49445370726 + 824.4983762653 * t);
-        X1 += 0.00000001819 * Math.cos(5.68655037935 + 491.8017469403 * t);
-        X1 += 0.00000001892 * Math.cos(5.26005735036 + 569.29165849331 * t);
-        X1 += 0.00000001770 * Math.cos(4.43317433717 + 842.3944989716 * t);
-        X1 += 0.00000001786 * Math.cos(5.25911906099 + 327.68138740401 * t);
-        X1 += 0.00000001761 * Math.cos(6.10459116553 + 67.424234083 * t);
-        X1 += 0.00000001872 * Math.cos(0.48305166447 + 1169.34443392509 * t);
-        X1 += 0.00000001951 * Math.cos(1.20156127405 + 142.6934676173 * t);
-        X1 += 0.00000001737 * Math.cos(3.47351315761 + 202.0095776906 * t);
-        X1 += 0.00000001965 * Math.cos(0.65764447635 + 9146.54625153749 * t);
-        X1 += 0.00000001703 * Math.cos(0.22482006123 + 2530.8911397693 * t);
-        X1 += 0.00000001717 * Math.cos(3.13603496824 + 380.37158544351 * t);
-        X1 += 0.00000001684 * Math.cos(2.53972202455 + 599.0873068529 * t);
-        X1 += 0.00000001669 * Math.cos(2.13331218955 + 2634.47154895491 * t);
-        X1 += 0.00000001707 * Math.cos(4.70440451897 + 92.2908914382 * t);
-        X1 += 0.00000001666 * Math.cos(6.08661752005 + 1058.66253982621 * t);
-        X1 += 0.00000002249 * Math.cos(0.32860344346 + 852.9525642685 * t);
-        X1 += 0.00000002105 * Math.cos(0.13724782964 + 1059.67393178251 * t);
-        X1 += 0.00000001971 * Math.cos(4.40376628788 + 1883.8803064545 * t);
-        X1 += 0.00000001682 * Math.cos(3.48278576722 + 1905.2209474569 * t);
-        X1 += 0.00000001591 * Math.cos(3.28337636744 + 2435.3995475185 * t);
-        X1 += 0.00000001870 * Math.cos(0.19806856983 + 739.30172475301 * t);
-        X1 += 0.00000001831 * Math.cos(4.94275349020 + 405.0137323901 * t);
-        X1 += 0.00000001741 * Math.cos(5.44783098353 + 1280.0383901115 * t);
-        X1 += 0.00000001437 * Math.cos(1.72233118576 + 1056.7049863659 * t);
-        X1 += 0.00000001666 * Math.cos(3.55643756155 + 1060.5889555192 * t);
-        X1 += 0.00000001646 * Math.cos(4.89045222906 + 299.37021175271 * t);
-        X1 += 0.00000001423 * Math.cos(0.35443031090 + 1464.8832975463 * t);
-        X1 += 0.00000001879 * Math.cos(1.06964842472 + 531.4192552864 * t);
-        X1 += 0.00000001879 * Math.cos(3.27103722365 + 528.4503098698 * t);
-        X1 += 0.00000001460 * Math.cos(2.99740366174 + 1269.743449373 * t);
-        X1 += 0.00000001684 * Math.cos(2.47723234250 + 1364.9719170654 * t);
-        X1 += 0.00000001453 * Math.cos(6.26510844895 + 526.2657538734 * t);
-        X1 += 0.00000001700 * Math.cos(0.15073432597 + 725.0746307514 * t);
-        X1 += 0.00000001360 * Math.cos(3.51016366749 + 917.1760975389 * t);
-        X1 += 0.00000001426 * Math.cos(3.38257862218 + 2840.1694624251 * t);
-        X1 += 0.00000001498 * Math.cos(5.40291606338 + 1134.40734624 * t);
-        X1 += 0.00000001410 * Math.cos(0.25814998758 + 1091.86907658711 * t);
-        X1 += 0.00000001520 * Math.cos(0.66510646757 + 977.7306021046 * t);
-        X1 += 0.00000001747 * Math.cos(1.60904440146 + 2324.70559133209 * t);
-        X1 += 0.00000001288 * Math.cos(5.52938584132 + 732.1881777522 * t);
-        X1 += 0.00000001713 * Math.cos(2.03572918983 + 2427.7983655507 * t);
-        X1 += 0.00000001282 * Math.cos(0.82379362487 + 1475.1782382848 * t);
-        X1 += 0.00000001517 * Math.cos(3.20491072001 + 1439.75351563271 * t);
-        X1 += 0.00000001271 * Math.cos(5.76578238196 + 843.145258497 * t);
-        X1 += 0.00000001308 * Math.cos(1.16466426738 + 558.3889705813 * t);
-        X1 += 0.00000001677 * Math.cos(5.68726278883 + 611.1992808273 * t);
-        X1 += 0.00000001256 * Math.cos(5.98835555735 + 2854.8841913937 * t);
-        X1 += 0.00000001366 * Math.cos(4.72040446216 + 1446.8670626335 * t);
-        X1 += 0.00000001435 * Math.cos(0.26721377820 + 991.9576961062 * t);
-        X1 += 0.00000001144 * Math.cos(0.57883702331 + 1482.2917852856 * t);
-        X1 += 0.00000001142 * Math.cos(2.82387136290 + 408.19512612779 * t);
-        X1 += 0.00000001147 * Math.cos(0.57710279821 + 3068.1832868317 * t);
-        X1 += 0.00000001501 * Math.cos(0.82356141490 + 75.0254160508 * t);
-        X1 += 0.00000001226 * Math.cos(5.02777555864 + 1141.3778808889 * t);
-        X1 += 0.00000001323 * Math.cos(0.45303236447 + 284.39235822571 * t);
-        X1 += 0.00000001150 * Math.cos(3.64731637589 + 430.2865266556 * t);
-        X1 += 0.00000001292 * Math.cos(3.22691222108 + 1994.5742626409 * t);
-        X1 += 0.00000001226 * Math.cos(0.90830574042 + 372.77040347569 * t);
-        X1 += 0.00000001132 * Math.cos(5.19504872814 + 1063.8185333667 * t);
-        X1 += 0.00000001079 * Math.cos(1.83169919397 + 1483.042544811 * t);
-        X1 += 0.00000001111 * Math.cos(3.09681405003 + 2413.5712715491 * t);
-        X1 += 0.00000001252 * Math.cos(1.06008408031 + 473.31243127551 * t);
-        X1 += 0.00000001242 * Math.cos(4.51992844109 + 539.4960101337 * t);
-        X1 += 0.00000001242 * Math.cos(2.96234986087 + 520.37355502251 * t);
-        X1 += 0.00000001169 * Math.cos(0.37626190654 + 386.9974974773 * t);
-        X1 += 0.00000001003 * Math.cos(6.17382979199 + 216.9874312176 * t);
-        X1 += 0.00000001030 * Math.cos(5.35594718648 + 850.25880549781 * t);
-        X1 += 0.00000001165 * Math.cos(3.23424220409 + 2758.9049641759 * t);
-        X1 += 0.00000000984 * Math.cos(5.54057958497 + 522.7730514675 * t);
-        X1 += 0.00000000984 * Math.cos(1.94169871699 + 537.09651368871 * t);
-        X1 += 0.00000001015 * Math.cos(0.51819766710 + 451.2210307477 * t);
-        X1 += 0.00000001310 * Math.cos(4.02666314741 + 1354.6769763269 * t);
-        X1 += 0.00000001121 * Math.cos(0.67317844435 + 4164.0681721295 * t);
-        X1 += 0.00000000956 * Math.cos(2.02124975965 + 2950.8634186115 * t);
-        X1 += 0.00000000940 * Math.cos(0.33627498720 + 39.6006933987 * t);
-        X1 += 0.00000000949 * Math.cos(2.09328292248 + 1475.9289978102 * t);
-        X1 += 0.00000000992 * Math.cos(2.88019144631 + 1969.4444807273 * t);
-        X1 += 0.00000000935 * Math.cos(2.32097978196 + 3053.46855786309 * t);
-        X1 += 0.00000001085 * Math.cos(3.28059335022 + 586.5571338807 * t);
-        X1 += 0.00000000901 * Math.cos(2.95406440747 + 248.9676355736 * t);
-        X1 += 0.00000000894 * Math.cos(6.19201666773 + 2847.28300942589 * t);
-        X1 += 0.00000000948 * Math.cos(3.23576370557 + 2221.6128171135 * t);
-        X1 += 0.00000000923 * Math.cos(1.57948501053 + 2421.1724535169 * t);
-        X1 += 0.00000001070 * Math.cos(4.12769395162 + 2200.2721761111 * t);
-        X1 += 0.00000001169 * Math.cos(0.96073817242 + 100.4012761803 * t);
-        X1 += 0.00000001005 * Math.cos(5.20924948749 + 1432.6399686319 * t);
-        X1 += 0.00000001017 * Math.cos(2.10326291360 + 8094.2778683491 * t);
-        X1 += 0.00000000984 * Math.cos(5.02707289654 + 537.0001454691 * t);
-        X1 += 0.00000000984 * Math.cos(2.45520540542 + 522.8694196871 * t);
-        X1 += 0.00000001118 * Math.cos(2.99407073283 + 416.547067621 * t);
-        X1 += 0.00000000914 * Math.cos(4.24495681812 + 1140.8902459219 * t);
-        X1 += 0.00000000977 * Math.cos(6.06165201031 + 312.9666584354 * t);
-        X1 += 0.00000000840 * Math.cos(2.42530575361 + 1579.0217720288 * t);
-        X1 += 0.00000000891 * Math.cos(1.62042692734 + 486.64575339981 * t);
-        X1 += 0.00000000849 * Math.cos(5.66050445306 + 834.7933170038 * t);
-        X1 += 0.00000000926 * Math.cos(1.06469662901 + 532.6285413488 * t);
-        X1 += 0.00000000832 * Math.cos(3.82248800441 + 608.64853440851 * t);
-        X1 += 0.00000000975 * Math.cos(1.83569716432 + 21.0968235189 * t);
-        X1 += 0.00000000794 * Math.cos(0.55277759585 + 1791.5701079414 * t);
-        X1 += 0.00000001006 * Math.cos(3.29673383179 + 2310.9661322975 * t);
-        X1 += 0.00000000825 * Math.cos(0.24960267153 + 8616.85528644289 * t);
-        X1 += 0.00000000827 * Math.cos(2.11307142672 + 2545.6058687379 * t);
-        X1 += 0.00000000955 * Math.cos(5.80717048495 + 760.01171843649 * t);
-        X1 += 0.00000000955 * Math.cos(5.80717048495 + 760.4993534035 * t);
-        X1 += 0.00000000936 * Math.cos(5.99339737103 + 155.53915477459 * t);
-        X1 += 0.00000000779 * Math.cos(1.83263011252 + 1792.3208674668 * t);
-        X1 += 0.00000000766 * Math.cos(2.28443434916 + 3811.1733473643 * t);
-        X1 += 0.00000000773 * Math.cos(2.27805515523 + 738.814089786 * t);
-        X1 += 0.00000000788 * Math.cos(3.85951320467 + 732.45130231059 * t);
-        X1 += 0.00000000801 * Math.cos(1.48502354739 + 77204.08367704989 * t);
-        X1 += 0.00000000937 * Math.cos(4.69566509817 + 297.9888049084 * t);
-        X1 += 0.00000000779 * Math.cos(5.36095004640 + 538.0115374254 * t);
-        X1 += 0.00000000779 * Math.cos(2.12132825556 + 521.8580277308 * t);
-        X1 += 0.00000000755 * Math.cos(0.53346289480 + 8631.0823804445 * t);
-        X1 += 0.00000000743 * Math.cos(5.06914451090 + 1060.1470125345 * t);
-        X1 += 0.00000000790 * Math.cos(4.76601235989 + 902.94900353731 * t);
-        X1 += 0.00000000897 * Math.cos(5.90672024499 + 1485.7363035817 * t);
-        X1 += 0.00000000991 * Math.cos(1.76419853445 + 2744.1902352073 * t);
-        X1 += 0.00000000740 * Math.cos(0.93130456921 + 277.2788112249 * t);
-        X1 += 0.00000000780 * Math.cos(0.67747505651 + 606.2008538537 * t);
-        X1 += 0.00000000738 * Math.cos(3.53234955097 + 4856.32818355191 * t);
-        X1 += 0.00000000799 * Math.cos(2.72025873636 + 573.2238117564 * t);
-        X1 += 0.00000000802 * Math.cos(3.92777211068 + 984.8441491054 * t);
-        X1 += 0.00000000761 * Math.cos(2.31403909443 + 2744.6778701743 * t);
-        X1 += 0.00000000735 * Math.cos(5.48605031473 + 4650.1426351147 * t);
-        X1 += 0.00000000721 * Math.cos(2.25748057238 + 731.70054278519 * t);
-        X1 += 0.00000000850 * Math.cos(3.90105539794 + 775.4772069305 * t);
-        X1 += 0.00000000717 * Math.cos(3.64971882351 + 5746.0275204125 * t);
-        X1 += 0.00000000754 * Math.cos(4.58241793030 + 202.4972126576 * t);
-        X1 += 0.00000000787 * Math.cos(6.16479913324 + 320.0802054362 * t);
-        X1 += 0.00000000739 * Math.cos(5.82129294779 + 967.57867371801 * t);
-        X1 += 0.00000000744 * Math.cos(1.81557790720 + 2847.77064439291 * t);
-        X1 += 0.00000000684 * Math.cos(0.30776904368 + 1798.68365494221 * t);
-        X1 += 0.00000000700 * Math.cos(6.09650846364 + 572.473052231 * t);
-        X1 += 0.00000000700 * Math.cos(4.52736249190 + 487.3965129252 * t);
-        X1 += 0.00000000690 * Math.cos(6.09169936894 + 2118.5200428949 * t);
-        X1 += 0.00000000670 * Math.cos(1.19443093892 + 245.2986068689 * t);
-        X1 += 0.00000000668 * Math.cos(3.63109061354 + 739.5648493114 * t);
-        X1 += 0.00000000667 * Math.cos(0.87583989763 + 1013.1553247567 * t);
-        X1 += 0.00000000762 * Math.cos(4.85397542040 + 9153.6597985383 * t);
-        X1 += 0.00000000711 * Math.cos(3.11169852570 + 3156.5613320817 * t);
-        X1 += 0.00000000679 * Math.cos(3.67936511602 + 24498.58642880689 * t);
-        X1 += 0.00000000729 * Math.cos(0.09495555814 + 4547.04986089611 * t);
-        X1 += 0.00000000692 * Math.cos(6.19117624873 + 5062.5137319891 * t);
-        X1 += 0.00000000649 * Math.cos(1.56313876075 + 1799.4344144676 * t);
-        X1 += 0.00000000677 * Math.cos(0.68187945383 + 10.051123255 * t);
-        X1 += 0.00000000784 * Math.cos(0.71180416773 + 3281.4823822697 * t);
-        X1 += 0.00000000733 * Math.cos(3.85073191118 + 453.66871130251 * t);
-        X1 += 0.00000000643 * Math.cos(2.57202346935 + 2310.4784973305 * t);
-        X1 += 0.00000000658 * Math.cos(0.00955649379 + 305.85311143459 * t);
-        X1 += 0.00000000784 * Math.cos(0.92101367041 + 74.53778108379 * t);
-        X1 += 0.00000000704 * Math.cos(0.42049120814 + 5165.60650620771 * t);
-        X1 += 0.00000000648 * Math.cos(5.17262659684 + 1382.64352936309 * t);
-        X1 += 0.00000000786 * Math.cos(0.17119550214 + 1290.19031849811 * t);
-        X1 += 0.00000000844 * Math.cos(4.57333845552 + 312.21589891 * t);
-        X1 += 0.00000000703 * Math.cos(3.18188887722 + 2288.1002260279 * t);
-        X1 += 0.00000000703 * Math.cos(3.68329176097 + 2273.8731320263 * t);
-        X1 += 0.00000000797 * Math.cos(1.30518182972 + 2641.0974609887 * t);
-        X1 += 0.00000000635 * Math.cos(0.57438614150 + 397.9001853893 * t);
-        X1 += 0.00000000607 * Math.cos(2.87691632991 + 1689.2280932482 * t);
-        X1 += 0.00000000626 * Math.cos(1.96304211270 + 2524.2652277355 * t);
-        X1 += 0.00000000636 * Math.cos(3.42015645415 + 511.2879003464 * t);
-        X1 += 0.00000000613 * Math.cos(5.27453086724 + 1037.7974717033 * t);
-        X1 += 0.00000000614 * Math.cos(4.75169588095 + 2957.9769656123 * t);
-        X1 += 0.00000000747 * Math.cos(3.57894990009 + 5223.4501023187 * t);
-        X1 += 0.00000000606 * Math.cos(5.48577834442 + 1751.2957139325 * t);
-        X1 += 0.00000000779 * Math.cos(5.87445673484 + 523.7844434238 * t);
-        X1 += 0.00000000779 * Math.cos(1.60782156712 + 536.08512173241 * t);
-        X1 += 0.00000000607 * Math.cos(2.92319803825 + 2133.2347718635 * t);
-        X1 += 0.00000000744 * Math.cos(1.33557042847 + 643.32249753521 * t);
-        X1 += 0.00000000697 * Math.cos(5.37775664790 + 1354.18934135989 * t);
-        X1 += 0.00000000669 * Math.cos(4.82929349311 + 5069.6272789899 * t);
-        X1 += 0.00000000762 * Math.cos(3.36471924953 + 1262.6299023722 * t);
-        X1 += 0.00000000765 * Math.cos(5.32617475783 + 927.5911504839 * t);
-        X1 += 0.00000000720 * Math.cos(3.06031913027 + 3075.2968338325 * t);
-        X1 += 0.00000000573 * Math.cos(1.26296826321 + 394.5986794451 * t);
-        X1 += 0.00000000634 * Math.cos(1.38494179693 + 470.1310375378 * t);
-        X1 += 0.00000000559 * Math.cos(2.49825062445 + 445.00125562421 * t);
-        X1 += 0.00000000671 * Math.cos(3.15851735580 + 454.6655490438 * t);
-        X1 += 0.00000000755 * Math.cos(6.14426019579 + 105.2966372899 * t);
-        X1 += 0.00000000567 * Math.cos(0.62012587567 + 1887.5493351592 * t);
-        X1 += 0.00000000593 * Math.cos(4.42709128942 + 842.65762352999 * t);
-        X1 += 0.00000000564 * Math.cos(4.09053029799 + 1127.2937992392 * t);
-        X1 += 0.00000000547 * Math.cos(2.00134392136 + 4127.5652170209 * t);
-        X1 += 0.00000000624 * Math.cos(1.38182148571 + 25035.39094090229 * t);
-        X1 += 0.00000000545 * Math.cos(1.38452164358 + 810.90192958261 * t);
-        X1 += 0.00000000641 * Math.cos(2.77533084404 + 305.5899868762 * t);
-        X1 += 0.00000000593 * Math.cos(6.12084605791 + 1063.0702659688 * t);
-        X1 += 0.00000000574 * Math.cos(4.93770315169 + 1699.0353990197 * t);
-        X1 += 0.00000000616 * Math.cos(1.88320700397 + 25021.16384690069 * t);
-        X1 += 0.00000000721 * Math.cos(3.98272042008 + 1819.8812835927 * t);
-        X1 += 0.00000000537 * Math.cos(3.42267089674 + 782.59075393131 * t);
-        X1 += 0.00000000597 * Math.cos(2.50100642147 + 379.8839504765 * t);
-        X1 += 0.00000000543 * Math.cos(4.69778069172 + 216.72430665921 * t);
-        X1 += 0.00000000552 * Math.cos(1.82100424033 + 1268.9926898476 * t);
-        X1 += 0.00000000534 * Math.cos(1.45757104363 + 437.136949098 * t);
-        X1 += 0.00000000588 * Math.cos(3.86118609001 + 460.2946233363 * t);
-        X1 += 0.00000000524 * Math.cos(2.90061539997 + 518.40144734719 * t);
-        X1 += 0.00000000701 * Math.cos(5.29663931018 + 1670.5812110165 * t);
-        X1 += 0.00000000632 * Math.cos(1.12269993255 + 4525.7092198937 * t);
-        X1 += 0.00000000546 * Math.cos(4.73323913866 + 89.10949770051 * t);
-        X1 += 0.00000000496 * Math.cos(6.08219208052 + 3171.2760610503 * t);
-        X1 += 0.00000000501 * Math.cos(0.04295581721 + 32.48714639791 * t);
-        X1 += 0.00000000508 * Math.cos(3.08019966842 + 827.67977000299 * t);
-        X1 += 0.00000000493 * Math.cos(5.43229903686 + 10022.0810975829 * t);
-        X1 += 0.00000000550 * Math.cos(3.74627720943 + 2516.66404576769 * t);
-        X1 += 0.00000000546 * Math.cos(2.95574391589 + 589.7385276184 * t);
-        X1 += 0.00000000509 * Math.cos(5.07088390420 + 4686.6455902233 * t);
-        X1 += 0.00000000505 * Math.cos(1.78087149512 + 754.27957828001 * t);
-        X1 += 0.00000000479 * Math.cos(4.72565705175 + 5223.93773728571 * t);
-        X1 += 0.00000000461 * Math.cos(0.99543408630 + 1595.9426248011 * t);
-        X1 += 0.00000000472 * Math.cos(5.67013290312 + 3163.6748790825 * t);
-        X1 += 0.00000000472 * Math.cos(2.52854024953 + 3164.1625140495 * t);
-        X1 += 0.00000000509 * Math.cos(0.84552728990 + 69.3963417583 * t);
-        X1 += 0.00000000546 * Math.cos(2.01514901803 + 2840.6570973921 * t);
-        X1 += 0.00000000615 * Math.cos(5.03969710796 + 519.15220687259 * t);
-        X1 += 0.00000000579 * Math.cos(2.45280217192 + 525.514994348 * t);
-        X1 += 0.00000000455 * Math.cos(0.84441579380 + 1468.06469128401 * t);
-        X1 += 0.00000000451 * Math.cos(1.84241635349 + 614.868309532 * t);
-        X1 += 0.00000000451 * Math.cos(0.27109462263 + 2107.96197759801 * t);
-        X1 += 0.00000000450 * Math.cos(5.54300486570 + 3480.06674873909 * t);
-        X1 += 0.00000000450 * Math.cos(2.40141221211 + 3480.5543837061 * t);
-        X1 += 0.00000000447 * Math.cos(1.49071427438 + 3267.2552882681 * t);
-        X1 += 0.00000000467 * Math.cos(1.66996550533 + 1490.15609181181 * t);
-        X1 += 0.00000000472 * Math.cos(3.97777002593 + 1457.2821155785 * t);
-        X1 += 0.00000000462 * Math.cos(0.76906085237 + 26617.8379241523 * t);
-        X1 += 0.00000000440 * Math.cos(3.74033577848 + 3384.08752152129 * t);
-        X1 += 0.00000000440 * Math.cos(0.59874312489 + 3384.5751564883 * t);
-        X1 += 0.00000000453 * Math.cos(6.16538796545 + 9154.1474335053 * t);
-        X1 += 0.00000000440 * Math.cos(3.20211909619 + 2538.00468677009 * t);
-        X1 += 0.00000000616 * Math.cos(4.82336088817 + 1560.3748897971 * t);
-        X1 += 0.00000000437 * Math.cos(5.35668949324 + 4966.5345047713 * t);
-        X1 += 0.00000000433 * Math.cos(5.44090883319 + 4700.87268422489 * t);
-        X1 += 0.00000000439 * Math.cos(1.57953949229 + 2108.7127371234 * t);
-        X1 += 0.00000000452 * Math.cos(4.81735477031 + 1551.1836771295 * t);
-        X1 += 0.00000000483 * Math.cos(5.25822765428 + 629.35852809199 * t);
-        X1 += 0.00000000455 * Math.cos(0.52481636476 + 1368.4164353615 * t);
-        X1 += 0.00000000454 * Math.cos(2.63963867488 + 1884.36794142151 * t);
-        X1 += 0.00000000476 * Math.cos(1.27217476850 + 3060.5821048639 * t);
-        X1 += 0.00000000414 * Math.cos(4.36171182245 + 533.37930087419 * t);
-        X1 += 0.00000000434 * Math.cos(2.83878055329 + 622.2449810912 * t);
-        X1 += 0.00000000434 * Math.cos(2.83878055329 + 622.7326160582 * t);
-        X1 += 0.00000000423 * Math.cos(4.52676867100 + 415.04804069769 * t);
-        X1 += 0.00000000411 * Math.cos(0.64284710617 + 4539.44867892829 * t);
-        X1 += 0.00000000411 * Math.cos(3.78443975976 + 4539.9363138953 * t);
-        X1 += 0.00000000507 * Math.cos(0.89077366361 + 3252.5405592995 * t);
-        X1 += 0.00000000401 * Math.cos(5.31716419569 + 1040.97886544099 * t);
-        X1 += 0.00000000424 * Math.cos(1.74548317826 + 1254.765595846 * t);
-        X1 += 0.00000000407 * Math.cos(3.07774750544 + 665.27088571111 * t);
-        X1 += 0.00000000428 * Math.cos(2.52282816585 + 12036.21691740469 * t);
-        X1 += 0.00000000487 * Math.cos(0.27735959651 + 1901.7764291608 * t);
-        X1 += 0.00000000484 * Math.cos(2.76465853394 + 1357.8583700646 * t);
-        X1 += 0.00000000435 * Math.cos(2.99417344584 + 2729.96314120569 * t);
-        X1 += 0.00000000435 * Math.cos(2.99417344584 + 2730.45077617271 * t);
-        X1 += 0.00000000393 * Math.cos(2.13115023199 + 3803.5721653965 * t);
-        X1 += 0.00000000393 * Math.cos(5.27274288558 + 3804.0598003635 * t);
-        X1 += 0.00000000396 * Math.cos(3.86752181242 + 1020.2688717575 * t);
-        X1 += 0.00000000413 * Math.cos(2.47801246921 + 1902.5271886862 * t);
-        X1 += 0.00000000438 * Math.cos(1.11008336467 + 611.8299281462 * t);
-        X1 += 0.00000000404 * Math.cos(3.24724828605 + 2042.7416065863 * t);
-        X1 += 0.00000000412 * Math.cos(6.18108169678 + 4863.4417305527 * t);
-        X1 += 0.00000000379 * Math.cos(1.72808594571 + 4443.9570866775 * t);
-        X1 += 0.00000000528 * Math.cos(4.53641477848 + 721.40560204669 * t);
-        X1 += 0.00000000392 * Math.cos(3.97639191399 + 2001.2001746747 * t);
-        X1 += 0.00000000379 * Math.cos(5.06316213675 + 9676.23721663209 * t);
-        X1 += 0.00000000379 * Math.cos(5.06316213675 + 9676.7248515991 * t);
-        X1 += 0.00000000372 * Math.cos(1.50891676381 + 3273.8812003019 * t);
-        X1 += 0.00000000372 * Math.cos(4.65050941740 + 3274.36883526891 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 358 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00202462055 * Math.cos(2.16872090770 + 529.9347825781 * t);
-        X2 += 0.00132313738 * Math.cos(5.46375601476 + 0.2438174835 * t);
-        X2 += 0.00123752958 * Math.cos(4.12933545743 + 522.8212355773 * t);
-        X2 += 0.00121682952 * Math.cos(0.20529040863 + 537.0483295789 * t);
-        X2 += 0.00035719700 * Math.cos(5.02591678600 + 1059.6257476727 * t);
-        X2 += 0.00011394908 * Math.cos(1.72910824402 + 7.3573644843 * t);
-        X2 += 0.00007053660 * Math.cos(0.73618974864 + 1066.7392946735 * t);
-        X2 += 0.00005684733 * Math.cos(3.62301903765 + 1052.51220067191 * t);
-        X2 += 0.00005262466 * Math.cos(4.26860629303 + 515.70768857651 * t);
-        X2 += 0.00003815469 * Math.cos(5.55769158033 + 1589.3167127673 * t);
-        X2 += 0.00003706857 * Math.cos(0.07620773039 + 544.1618765797 * t);
-        X2 += 0.00001449544 * Math.cos(2.64864661582 + 110.45013870291 * t);
-        X2 += 0.00001046768 * Math.cos(2.32475473247 + 426.8420083595 * t);
-        X2 += 0.00001322480 * Math.cos(1.62777310244 + 14.47091148511 * t);
-        X2 += 0.00000858857 * Math.cos(1.87732946593 + 633.0275567967 * t);
-        X2 += 0.00000887013 * Math.cos(4.66395505443 + 526.7533888404 * t);
-        X2 += 0.00000866197 * Math.cos(5.95310584104 + 533.1161763158 * t);
-        X2 += 0.00000997140 * Math.cos(1.45788897945 + 323.74923414091 * t);
-        X2 += 0.00000563455 * Math.cos(1.62040359556 + 949.4194264533 * t);
-        X2 += 0.00000571107 * Math.cos(3.15712293933 + 1045.3986536711 * t);
-        X2 += 0.00000519207 * Math.cos(5.96329235901 + 526.00262931501 * t);
-        X2 += 0.00000607942 * Math.cos(2.84828776126 + 736.1203310153 * t);
-        X2 += 0.00000506922 * Math.cos(4.64788690486 + 533.8669358412 * t);
-        X2 += 0.00000485331 * Math.cos(1.60461640700 + 109.9625037359 * t);
-        X2 += 0.00000475072 * Math.cos(4.21127530175 + 529.44714761109 * t);
-        X2 += 0.00000458270 * Math.cos(1.23999732854 + 1596.43025976811 * t);
-        X2 += 0.00000418781 * Math.cos(2.61159590787 + 117.5636857037 * t);
-        X2 += 0.00000525152 * Math.cos(0.41184029160 + 102.84895673509 * t);
-        X2 += 0.00000374437 * Math.cos(5.55383016603 + 95.7354097343 * t);
-        X2 += 0.00000412815 * Math.cos(0.32973940832 + 103.3365917021 * t);
-        X2 += 0.00000320928 * Math.cos(4.24368441414 + 419.72846135871 * t);
-        X2 += 0.00000322793 * Math.cos(5.98934797904 + 2119.00767786191 * t);
-        X2 += 0.00000302747 * Math.cos(0.27601683091 + 205.9417309537 * t);
-        X2 += 0.00000280926 * Math.cos(3.69548040149 + 1582.2031657665 * t);
-        X2 += 0.00000243003 * Math.cos(3.14355186105 + 625.9140097959 * t);
-        X2 += 0.00000260213 * Math.cos(3.67206938453 + 956.53297345411 * t);
-        X2 += 0.00000223206 * Math.cos(0.88087474540 + 433.9555553603 * t);
-        X2 += 0.00000219874 * Math.cos(1.72167133402 + 942.3058794525 * t);
-        X2 += 0.00000202904 * Math.cos(0.48756623733 + 220.6564599223 * t);
-        X2 += 0.00000196744 * Math.cos(5.99963553149 + 1169.83206889211 * t);
-        X2 += 0.00000171475 * Math.cos(0.62368794765 + 6.86972951729 * t);
-        X2 += 0.00000195569 * Math.cos(5.98737256847 + 640.1411037975 * t);
-        X2 += 0.00000165172 * Math.cos(5.28462686074 + 316.6356871401 * t);
-        X2 += 0.00000163913 * Math.cos(0.52317209564 + 1073.85284167431 * t);
-        X2 += 0.00000164904 * Math.cos(3.55715812496 + 1155.6049748905 * t);
-        X2 += 0.00000138497 * Math.cos(4.42900020166 + 508.5941415757 * t);
-        X2 += 0.00000135640 * Math.cos(0.24898267917 + 198.82818395289 * t);
-        X2 += 0.00000170382 * Math.cos(1.32273885498 + 330.8627811417 * t);
-        X2 += 0.00000123801 * Math.cos(5.24272600896 + 743.23387801611 * t);
-        X2 += 0.00000105922 * Math.cos(2.67322273860 + 853.4401992355 * t);
-        X2 += 0.00000104749 * Math.cos(1.04943852587 + 522.3336006103 * t);
-        X2 += 0.00000115508 * Math.cos(1.14912313221 + 309.0345051723 * t);
-        X2 += 0.00000127421 * Math.cos(2.98933095130 + 729.0067840145 * t);
-        X2 += 0.00000104374 * Math.cos(2.46273763192 + 213.5429129215 * t);
-        X2 += 0.00000074731 * Math.cos(6.19108417338 + 551.27542358051 * t);
-        X2 += 0.00000076056 * Math.cos(4.16147111300 + 1265.81129610991 * t);
-        X2 += 0.00000084864 * Math.cos(4.83454215641 + 519.63984183961 * t);
-        X2 += 0.00000085433 * Math.cos(2.50456948380 + 213.0552779545 * t);
-        X2 += 0.00000070250 * Math.cos(1.40859137196 + 426.3543733925 * t);
-        X2 += 0.00000070226 * Math.cos(1.17306752912 + 206.42936592071 * t);
-        X2 += 0.00000065869 * Math.cos(3.83439660231 + 839.2131052339 * t);
-        X2 += 0.00000062918 * Math.cos(4.41103639601 + 412.6149143579 * t);
-        X2 += 0.00000067605 * Math.cos(5.76604168472 + 540.2297233166 * t);
-        X2 += 0.00000071970 * Math.cos(0.19069755890 + 419.2408263917 * t);
-        X2 += 0.00000053452 * Math.cos(1.25726970711 + 3.42521122121 * t);
-        X2 += 0.00000052805 * Math.cos(5.35851382984 + 412.12727939089 * t);
-        X2 += 0.00000055599 * Math.cos(1.47903917952 + 21.5844584859 * t);
-        X2 += 0.00000046667 * Math.cos(0.35527018271 + 227.77000692311 * t);
-        X2 += 0.00000048911 * Math.cos(0.17388705856 + 1062.80714141041 * t);
-        X2 += 0.00000046046 * Math.cos(0.12865245318 + 536.5606946119 * t);
-        X2 += 0.00000049381 * Math.cos(4.53307122517 + 1162.7185218913 * t);
-        X2 += 0.00000039853 * Math.cos(4.40185904785 + 1258.6977491091 * t);
-        X2 += 0.00000038964 * Math.cos(5.39489558888 + 309.5221401393 * t);
-        X2 += 0.00000038082 * Math.cos(5.82106990307 + 441.06910236111 * t);
-        X2 += 0.00000032665 * Math.cos(4.64318627449 + 1692.40948698591 * t);
-        X2 += 0.00000031801 * Math.cos(1.71799573531 + 2126.1212248627 * t);
-        X2 += 0.00000036510 * Math.cos(4.40226967417 + 1056.444353935 * t);
-        X2 += 0.00000040831 * Math.cos(3.33818544372 + 1575.08961876571 * t);
-        X2 += 0.00000031242 * Math.cos(4.56981926575 + 618.8004627951 * t);
-        X2 += 0.00000032827 * Math.cos(0.30468062826 + 515.2200536095 * t);
-        X2 += 0.00000028849 * Math.cos(0.32258423359 + 1055.6935944096 * t);
-        X2 += 0.00000032224 * Math.cos(0.24894992339 + 1272.9248431107 * t);
-        X2 += 0.00000028682 * Math.cos(3.10923644274 + 1038.2851066703 * t);
-        X2 += 0.00000029430 * Math.cos(4.79051983333 + 1486.2239385487 * t);
-        X2 += 0.00000034150 * Math.cos(1.22671657337 + 301.9209581715 * t);
-        X2 += 0.00000032088 * Math.cos(0.95269083826 + 625.42637482889 * t);
-        X2 += 0.00000024170 * Math.cos(3.96546667147 + 832.0995582331 * t);
-        X2 += 0.00000023462 * Math.cos(5.23275815839 + 1059.1381127057 * t);
-        X2 += 0.00000023622 * Math.cos(1.03079849725 + 742.74624304909 * t);
-        X2 += 0.00000025413 * Math.cos(5.36457820071 + 1368.9040703285 * t);
-        X2 += 0.00000025008 * Math.cos(0.10163753957 + 2648.6986429565 * t);
-        X2 += 0.00000019641 * Math.cos(4.86937041561 + 1063.55790093581 * t);
-        X2 += 0.00000020824 * Math.cos(0.24917335293 + 1699.5230339867 * t);
-        X2 += 0.00000018958 * Math.cos(6.04301166316 + 838.72547026689 * t);
-        X2 += 0.00000019085 * Math.cos(1.84501493463 + 1479.11039154791 * t);
-        X2 += 0.00000020467 * Math.cos(6.09881928033 + 647.25465079831 * t);
-        X2 += 0.00000018387 * Math.cos(2.47199072977 + 1471.9968445471 * t);
-        X2 += 0.00000016332 * Math.cos(4.98457997872 + 728.5191490475 * t);
-        X2 += 0.00000018784 * Math.cos(6.11069390571 + 735.6326960483 * t);
-        X2 += 0.00000013140 * Math.cos(1.62064062804 + 1376.0176173293 * t);
-        X2 += 0.00000014219 * Math.cos(2.42409257216 + 124.6772327045 * t);
-        X2 += 0.00000012676 * Math.cos(5.96326773737 + 831.6119232661 * t);
-        X2 += 0.00000012289 * Math.cos(1.04197442517 + 10.538758222 * t);
-        X2 += 0.00000011203 * Math.cos(3.16486860174 + 511.7755353134 * t);
-        X2 += 0.00000012667 * Math.cos(1.06449203791 + 963.6465204549 * t);
-        X2 += 0.00000013805 * Math.cos(3.83367170604 + 2111.8941308611 * t);
-        X2 += 0.00000010749 * Math.cos(1.17035514019 + 548.0940298428 * t);
-        X2 += 0.00000012863 * Math.cos(6.04094024122 + 750.3474250169 * t);
-        X2 += 0.00000012393 * Math.cos(3.91459301015 + 1685.2959399851 * t);
-        X2 += 0.00000012549 * Math.cos(0.60189314422 + 941.8182444855 * t);
-        X2 += 0.00000010468 * Math.cos(1.87537642305 + 935.19233245171 * t);
-        X2 += 0.00000008995 * Math.cos(3.32040576908 + 1383.13116433011 * t);
-        X2 += 0.00000011159 * Math.cos(0.93936211173 + 618.3128278281 * t);
-        X2 += 0.00000007631 * Math.cos(3.48899971728 + 632.5399218297 * t);
-        X2 += 0.00000007503 * Math.cos(0.95949200774 + 1603.5438067689 * t);
-        X2 += 0.00000007708 * Math.cos(0.38373971235 + 191.7146369521 * t);
-        X2 += 0.00000007383 * Math.cos(5.84748639962 + 1155.1173399235 * t);
-        X2 += 0.00000008531 * Math.cos(5.41891495754 + 1361.79052332771 * t);
-        X2 += 0.00000008011 * Math.cos(1.16879967744 + 337.9763281425 * t);
-        X2 += 0.00000007223 * Math.cos(2.27526633054 + 88.6218627335 * t);
-        X2 += 0.00000007778 * Math.cos(6.08089864211 + 1052.02456570489 * t);
-        X2 += 0.00000007476 * Math.cos(3.16644140740 + 721.8932370137 * t);
-        X2 += 0.00000005663 * Math.cos(5.09194448812 + 2222.1004520805 * t);
-        X2 += 0.00000005661 * Math.cos(4.71699843448 + 1044.9110187041 * t);
-        X2 += 0.00000005318 * Math.cos(5.67177401754 + 1148.00379292269 * t);
-        X2 += 0.00000004988 * Math.cos(5.11228308670 + 639.6534688305 * t);
-        X2 += 0.00000005093 * Math.cos(1.01868695076 + 106.0303504728 * t);
-        X2 += 0.00000006533 * Math.cos(1.90999732711 + 845.8390172677 * t);
-        X2 += 0.00000006385 * Math.cos(1.92471190846 + 860.55374623631 * t);
-        X2 += 0.00000004988 * Math.cos(6.12592952219 + 99.6675629974 * t);
-        X2 += 0.00000005571 * Math.cos(4.38524037140 + 1795.5022612045 * t);
-        X2 += 0.00000005541 * Math.cos(3.99278179683 + 1049.3308069342 * t);
-        X2 += 0.00000005247 * Math.cos(0.31216331680 + 1258.21011414209 * t);
-        X2 += 0.00000004445 * Math.cos(5.36838660295 + 846.3266522347 * t);
-        X2 += 0.00000003990 * Math.cos(0.03159217662 + 1802.6158082053 * t);
-        X2 += 0.00000003926 * Math.cos(3.73297740864 + 497.69145366371 * t);
-        X2 += 0.00000003892 * Math.cos(5.41749662246 + 302.40859313851 * t);
-        X2 += 0.00000003809 * Math.cos(2.16830295705 + 2.9375762542 * t);
-        X2 += 0.00000003620 * Math.cos(0.60770824733 + 562.1781114925 * t);
-        X2 += 0.00000004760 * Math.cos(0.65404095225 + 934.70469748469 * t);
-        X2 += 0.00000004154 * Math.cos(0.58444106217 + 96.2230447013 * t);
-        X2 += 0.00000003877 * Math.cos(0.63005503524 + 1375.52998236229 * t);
-        X2 += 0.00000003522 * Math.cos(4.66663934261 + 501.4805945749 * t);
-        X2 += 0.00000003445 * Math.cos(4.10178765579 + 1148.49142788971 * t);
-        X2 += 0.00000003382 * Math.cos(0.17821445242 + 234.8835539239 * t);
-        X2 += 0.00000003592 * Math.cos(5.23722943024 + 405.5013673571 * t);
-        X2 += 0.00000003808 * Math.cos(3.92687517258 + 1788.38871420371 * t);
-        X2 += 0.00000003336 * Math.cos(5.59164932879 + 1471.50920958009 * t);
-        X2 += 0.00000003758 * Math.cos(2.02589350773 + 113.6315324406 * t);
-        X2 += 0.00000003174 * Math.cos(5.47701611962 + 448.1826493619 * t);
-        X2 += 0.00000003698 * Math.cos(5.72579798285 + 220.16882495529 * t);
-        X2 += 0.00000003101 * Math.cos(1.61252122505 + 316.14805217309 * t);
-        X2 += 0.00000002746 * Math.cos(2.60898959388 + 81.50831573269 * t);
-        X2 += 0.00000002816 * Math.cos(5.64817967676 + 2015.9149036433 * t);
-        X2 += 0.00000002754 * Math.cos(0.98878483675 + 430.02340209721 * t);
-        X2 += 0.00000002783 * Math.cos(3.38652113978 + 2104.7805838603 * t);
-        X2 += 0.00000003501 * Math.cos(6.18907958990 + 1069.92068841121 * t);
-        X2 += 0.00000002580 * Math.cos(1.13656236739 + 98.91680347199 * t);
-        X2 += 0.00000002605 * Math.cos(5.15330137752 + 611.6869157943 * t);
-        X2 += 0.00000002955 * Math.cos(0.62556987115 + 1592.498106505 * t);
-        X2 += 0.00000003418 * Math.cos(5.62641717211 + 1368.4164353615 * t);
-        X2 += 0.00000002482 * Math.cos(4.62391263198 + 1361.3028883607 * t);
-        X2 += 0.00000002409 * Math.cos(0.93859403652 + 107.2687449652 * t);
-        X2 += 0.00000002450 * Math.cos(0.25718396069 + 948.9317914863 * t);
-        X2 += 0.00000002454 * Math.cos(4.64671390500 + 1251.5842021083 * t);
-        X2 += 0.00000002443 * Math.cos(5.51785304335 + 1464.3956625793 * t);
-        X2 += 0.00000002848 * Math.cos(4.80044770776 + 1898.5950354231 * t);
-        X2 += 0.00000002434 * Math.cos(0.16399375449 + 1080.9663886751 * t);
-        X2 += 0.00000002240 * Math.cos(3.34539121485 + 629.846163059 * t);
-        X2 += 0.00000002676 * Math.cos(1.36442566154 + 294.80741117069 * t);
-        X2 += 0.00000002252 * Math.cos(5.77491969067 + 423.66061462181 * t);
-        X2 += 0.00000002207 * Math.cos(5.98168647453 + 106.7811099982 * t);
-        X2 += 0.00000002966 * Math.cos(2.18772217641 + 106.5179854398 * t);
-        X2 += 0.00000002114 * Math.cos(1.40054172319 + 117.0760507367 * t);
-        X2 += 0.00000002234 * Math.cos(5.28783438446 + 6276.2061204741 * t);
-        X2 += 0.00000002232 * Math.cos(1.36347902456 + 6290.4332144757 * t);
-        X2 += 0.00000002060 * Math.cos(2.18476343972 + 2655.8121899573 * t);
-        X2 += 0.00000002492 * Math.cos(6.26929425827 + 1574.6019837987 * t);
-        X2 += 0.00000002405 * Math.cos(1.83175482621 + 1162.23088692429 * t);
-        X2 += 0.00000002094 * Math.cos(2.69213826264 + 13.9832765181 * t);
-        X2 += 0.00000001997 * Math.cos(4.16493009666 + 2008.8013566425 * t);
-        X2 += 0.00000001998 * Math.cos(5.23976804747 + 149.8070146181 * t);
-        X2 += 0.00000002075 * Math.cos(0.42755107557 + 10206.4158166937 * t);
-        X2 += 0.00000002073 * Math.cos(2.78638288310 + 10220.6429106953 * t);
-        X2 += 0.00000001833 * Math.cos(4.18008301702 + 824.9860112323 * t);
-        X2 += 0.00000001940 * Math.cos(0.37528581380 + 199.3158189199 * t);
-        X2 += 0.00000001989 * Math.cos(0.05550838377 + 323.2615991739 * t);
-        X2 += 0.00000001764 * Math.cos(6.26232235027 + 970.7600674557 * t);
-        X2 += 0.00000002079 * Math.cos(1.73475090893 + 1905.70858242391 * t);
-        X2 += 0.00000001815 * Math.cos(0.03040681609 + 1265.32366114289 * t);
-        X2 += 0.00000001815 * Math.cos(5.85864386233 + 558.3889705813 * t);
-        X2 += 0.00000001819 * Math.cos(5.36203973035 + 1165.89991562901 * t);
-        X2 += 0.00000002303 * Math.cos(0.38034815736 + 1251.0965671413 * t);
-        X2 += 0.00000001797 * Math.cos(0.77607919875 + 1585.38455950421 * t);
-        X2 += 0.00000001785 * Math.cos(4.17120693216 + 1159.53712815361 * t);
-        X2 += 0.00000001719 * Math.cos(4.75204120917 + 654.3681977991 * t);
-        X2 += 0.00000002106 * Math.cos(0.43427607956 + 508.10650660869 * t);
-        X2 += 0.00000001746 * Math.cos(4.42490277475 + 1586.13531902961 * t);
-        X2 += 0.00000001693 * Math.cos(0.29049773833 + 1691.9218520189 * t);
-        X2 += 0.00000001560 * Math.cos(4.06032111240 + 2001.68780964171 * t);
-        X2 += 0.00000001635 * Math.cos(5.33907949351 + 1787.9010792367 * t);
-        X2 += 0.00000001492 * Math.cos(1.04533558456 + 422.9098550964 * t);
-        X2 += 0.00000001558 * Math.cos(4.80176978113 + 636.2089505344 * t);
-        X2 += 0.00000001753 * Math.cos(0.13061364698 + 757.4609720177 * t);
-        X2 += 0.00000001757 * Math.cos(0.60186557399 + 3178.38960805111 * t);
-        X2 += 0.00000001411 * Math.cos(3.25105098307 + 956.04533848709 * t);
-        X2 += 0.00000001925 * Math.cos(3.26959207194 + 1567.9760717649 * t);
-        X2 += 0.00000001563 * Math.cos(4.39444066103 + 1891.4814884223 * t);
-        X2 += 0.00000001383 * Math.cos(3.30206953671 + 5230.5636493195 * t);
-        X2 += 0.00000001393 * Math.cos(4.07489654140 + 1280.0383901115 * t);
-        X2 += 0.00000001381 * Math.cos(0.94379151453 + 5216.33655531789 * t);
-        X2 += 0.00000001548 * Math.cos(2.31717712129 + 946.23803271561 * t);
-        X2 += 0.00000001239 * Math.cos(6.05197725659 + 543.6742416127 * t);
-        X2 += 0.00000001373 * Math.cos(5.88274816049 + 1890.9938534553 * t);
-        X2 += 0.00000001198 * Math.cos(0.79241931733 + 326.9306278786 * t);
-        X2 += 0.00000001220 * Math.cos(0.92943402597 + 319.8170808778 * t);
-        X2 += 0.00000001357 * Math.cos(0.99707936433 + 2229.2139990813 * t);
-        X2 += 0.00000001271 * Math.cos(4.72505663718 + 9160.77334553909 * t);
-        X2 += 0.00000001268 * Math.cos(2.36679203236 + 9146.54625153749 * t);
-        X2 += 0.00000001183 * Math.cos(3.25890608260 + 636.95971005981 * t);
-        X2 += 0.00000001254 * Math.cos(4.50024168543 + 433.46792039329 * t);
-        X2 += 0.00000001180 * Math.cos(5.26395330152 + 1780.78753223589 * t);
-        X2 += 0.00000001421 * Math.cos(5.18461492344 + 1678.1823929843 * t);
-        X2 += 0.00000001111 * Math.cos(5.11243140232 + 910.0625505381 * t);
-        X2 += 0.00000001135 * Math.cos(5.56380149178 + 540.98048284201 * t);
-        X2 += 0.00000001425 * Math.cos(5.31039737830 + 1684.80830501809 * t);
-        X2 += 0.00000001101 * Math.cos(1.90347864340 + 518.8890823142 * t);
-        X2 += 0.00000001052 * Math.cos(2.44195881689 + 1493.3374855495 * t);
-        X2 += 0.00000000954 * Math.cos(0.56086592982 + 1066.2516597065 * t);
-        X2 += 0.00000001305 * Math.cos(2.11338311992 + 5223.4501023187 * t);
-        X2 += 0.00000000932 * Math.cos(3.38781033249 + 952.60082019101 * t);
-        X2 += 0.00000001152 * Math.cos(5.72701789718 + 3281.4823822697 * t);
-        X2 += 0.00000001271 * Math.cos(1.34644154763 + 1478.62275658089 * t);
-        X2 += 0.00000000993 * Math.cos(0.85140525988 + 2427.7983655507 * t);
-        X2 += 0.00000001202 * Math.cos(0.09319048042 + 1567.48843679789 * t);
-        X2 += 0.00000000952 * Math.cos(4.40542256077 + 2325.1932262991 * t);
-        X2 += 0.00000000904 * Math.cos(5.45851579572 + 1158.78636862821 * t);
-        X2 += 0.00000001185 * Math.cos(4.39736411513 + 2214.98690507971 * t);
-        X2 += 0.00000000965 * Math.cos(3.98841084090 + 2428.2860005177 * t);
-        X2 += 0.00000000862 * Math.cos(1.88793880359 + 5753.14106741329 * t);
-        X2 += 0.00000001183 * Math.cos(2.13750411181 + 953.3515797164 * t);
-        X2 += 0.00000000858 * Math.cos(4.03268202733 + 749.8597900499 * t);
-        X2 += 0.00000000857 * Math.cos(4.35000353836 + 1677.6947580173 * t);
-        X2 += 0.00000000896 * Math.cos(2.48010732688 + 1272.4372081437 * t);
-        X2 += 0.00000000838 * Math.cos(3.42424958269 + 740.0524842784 * t);
-        X2 += 0.00000000810 * Math.cos(3.56166190184 + 732.93893727761 * t);
-        X2 += 0.00000000899 * Math.cos(6.16076732455 + 1581.7155307995 * t);
-        X2 += 0.00000001107 * Math.cos(3.10071050352 + 1912.8221294247 * t);
-        X2 += 0.00000001099 * Math.cos(0.06283564514 + 21.0968235189 * t);
-        X2 += 0.00000000856 * Math.cos(1.83949886373 + 210.36151918381 * t);
-        X2 += 0.00000000792 * Math.cos(3.31088624099 + 9683.35076363289 * t);
-        X2 += 0.00000000803 * Math.cos(4.00091268006 + 2641.5850959557 * t);
-        X2 += 0.00000001013 * Math.cos(4.97621633767 + 852.9525642685 * t);
-        X2 += 0.00000000790 * Math.cos(4.03009368633 + 1166.6506751544 * t);
-        X2 += 0.00000000927 * Math.cos(0.83468452012 + 202.760337216 * t);
-        X2 += 0.00000000955 * Math.cos(1.05973862416 + 611.1992808273 * t);
-        X2 += 0.00000000848 * Math.cos(6.24143056133 + 824.4983762653 * t);
-        X2 += 0.00000000721 * Math.cos(2.30689352602 + 4693.75913722409 * t);
-        X2 += 0.00000000732 * Math.cos(0.54378112448 + 1141.3778808889 * t);
-        X2 += 0.00000000717 * Math.cos(5.04553206489 + 2538.4923217371 * t);
-        X2 += 0.00000000764 * Math.cos(2.59169068637 + 3789.8327063619 * t);
-        X2 += 0.00000000757 * Math.cos(0.72064468326 + 422.42222012939 * t);
-        X2 += 0.00000000870 * Math.cos(3.27554624699 + 3900.0390275813 * t);
-        X2 += 0.00000000745 * Math.cos(5.82790167193 + 416.059432654 * t);
-        X2 += 0.00000000786 * Math.cos(3.44863092226 + 3590.7607049255 * t);
-        X2 += 0.00000000722 * Math.cos(2.26242549861 + 1809.72935520611 * t);
-        X2 += 0.00000000731 * Math.cos(6.27879280918 + 2008.3137216755 * t);
-        X2 += 0.00000000784 * Math.cos(0.83516247967 + 1795.0146262375 * t);
-        X2 += 0.00000000655 * Math.cos(3.72870036603 + 8623.96883344369 * t);
-        X2 += 0.00000000859 * Math.cos(6.02318696083 + 459.0853372739 * t);
-        X2 += 0.00000000787 * Math.cos(5.46578436956 + 1671.06884598351 * t);
-        X2 += 0.00000000668 * Math.cos(2.03555764252 + 2545.6058687379 * t);
-        X2 += 0.00000000707 * Math.cos(5.16062924903 + 1169.34443392509 * t);
-        X2 += 0.00000000679 * Math.cos(5.40421465627 + 1588.82907780029 * t);
-        X2 += 0.00000000721 * Math.cos(5.17345152360 + 2104.2929488933 * t);
-        X2 += 0.00000000869 * Math.cos(3.62787610341 + 3576.5336109239 * t);
-        X2 += 0.00000000878 * Math.cos(0.78188086789 + 75.0254160508 * t);
-        X2 += 0.00000000883 * Math.cos(4.44629342777 + 3384.5751564883 * t);
-        X2 += 0.00000000627 * Math.cos(1.03465619593 + 405.0137323901 * t);
-        X2 += 0.00000000776 * Math.cos(0.79670919548 + 927.5911504839 * t);
-        X2 += 0.00000000751 * Math.cos(5.49611274777 + 3597.8742519263 * t);
-        X2 += 0.00000000821 * Math.cos(4.90808802861 + 3487.66793070691 * t);
-        X2 += 0.00000000603 * Math.cos(3.81342348025 + 2318.0796792983 * t);
-        X2 += 0.00000000766 * Math.cos(5.46484704372 + 1354.6769763269 * t);
-        X2 += 0.00000000679 * Math.cos(5.65072392656 + 2207.38572311189 * t);
-        X2 += 0.00000000820 * Math.cos(0.17433301545 + 6283.3196674749 * t);
-        X2 += 0.00000000638 * Math.cos(2.47793884910 + 3370.34806248671 * t);
-        X2 += 0.00000000711 * Math.cos(6.00519368625 + 1883.8803064545 * t);
-        X2 += 0.00000000666 * Math.cos(2.80033054652 + 3693.8534791441 * t);
-        X2 += 0.00000000785 * Math.cos(1.92447383793 + 3149.44778508089 * t);
-        X2 += 0.00000000566 * Math.cos(1.70107169172 + 2861.9977383945 * t);
-        X2 += 0.00000000781 * Math.cos(2.98565268549 + 3796.94625336271 * t);
-        X2 += 0.00000000719 * Math.cos(4.60068400707 + 600.7842278823 * t);
-        X2 += 0.00000000586 * Math.cos(2.40576117729 + 732.45130231059 * t);
-        X2 += 0.00000000546 * Math.cos(2.44839181979 + 437.8877086234 * t);
-        X2 += 0.00000000539 * Math.cos(1.82254051811 + 209.12312469139 * t);
-        X2 += 0.00000000659 * Math.cos(4.16439637438 + 2207.8733580789 * t);
-        X2 += 0.00000000617 * Math.cos(3.66057473715 + 2744.6778701743 * t);
-        X2 += 0.00000000617 * Math.cos(0.51898208356 + 2744.1902352073 * t);
-        X2 += 0.00000000687 * Math.cos(0.58854485387 + 209.87388421679 * t);
-        X2 += 0.00000000566 * Math.cos(3.13556615267 + 526.2657538734 * t);
-        X2 += 0.00000000640 * Math.cos(5.17909893148 + 1987.4607156401 * t);
-        X2 += 0.00000000623 * Math.cos(3.78657888107 + 3274.36883526891 * t);
-        X2 += 0.00000000623 * Math.cos(0.64498622748 + 3273.8812003019 * t);
-        X2 += 0.00000000682 * Math.cos(0.06918162441 + 2332.3067732999 * t);
-        X2 += 0.00000000719 * Math.cos(3.54267214135 + 9153.6597985383 * t);
-        X2 += 0.00000000547 * Math.cos(5.05475414650 + 2097.1794018925 * t);
-        X2 += 0.00000000705 * Math.cos(4.16571456887 + 3700.96702614491 * t);
-        X2 += 0.00000000574 * Math.cos(4.99043344927 + 430.7741616226 * t);
-        X2 += 0.00000000543 * Math.cos(5.59320658894 + 1457.2821155785 * t);
-        X2 += 0.00000000693 * Math.cos(5.04264798056 + 2001.2001746747 * t);
-        X2 += 0.00000000659 * Math.cos(4.53919606995 + 3804.0598003635 * t);
-        X2 += 0.00000000581 * Math.cos(0.58799150667 + 2111.40649589409 * t);
-        X2 += 0.00000000540 * Math.cos(4.56823438295 + 2729.96314120569 * t);
-        X2 += 0.00000000653 * Math.cos(4.52246789790 + 2626.8703669871 * t);
-        X2 += 0.00000000673 * Math.cos(4.65921419822 + 416.547067621 * t);
-        X2 += 0.00000000541 * Math.cos(5.68847817907 + 2214.4992701127 * t);
-        X2 += 0.00000000463 * Math.cos(5.28637314313 + 529.88659846831 * t);
-        X2 += 0.00000000463 * Math.cos(2.20099897893 + 529.9829666879 * t);
-        X2 += 0.00000000453 * Math.cos(0.47524333960 + 5753.6287023803 * t);
-        X2 += 0.00000000499 * Math.cos(3.31827894302 + 2421.1724535169 * t);
-        X2 += 0.00000000456 * Math.cos(4.85909697014 + 76.50988875911 * t);
-        X2 += 0.00000000587 * Math.cos(2.70740471670 + 527.4871020233 * t);
-        X2 += 0.00000000505 * Math.cos(5.77419802762 + 532.6285413488 * t);
-        X2 += 0.00000000582 * Math.cos(4.77848510541 + 532.3824631329 * t);
-        X2 += 0.00000000517 * Math.cos(5.40871139161 + 2523.7775927685 * t);
-        X2 += 0.00000000475 * Math.cos(4.45896757052 + 2531.3787747363 * t);
-        X2 += 0.00000000433 * Math.cos(1.89229373784 + 621.98185653281 * t);
-        X2 += 0.00000000530 * Math.cos(4.89239591125 + 512.5262948388 * t);
-        X2 += 0.00000000530 * Math.cos(2.58988239071 + 547.34327031741 * t);
-        X2 += 0.00000000478 * Math.cos(5.07132599131 + 1593.2488660304 * t);
-        X2 += 0.00000000423 * Math.cos(1.89822370785 + 9683.8383985999 * t);
-        X2 += 0.00000000592 * Math.cos(0.09761552238 + 2324.70559133209 * t);
-        X2 += 0.00000000410 * Math.cos(2.56036863491 + 2751.30378220809 * t);
-        X2 += 0.00000000507 * Math.cos(0.52941934961 + 1243.98302014049 * t);
-        X2 += 0.00000000521 * Math.cos(3.03081020519 + 4216.4308972379 * t);
-        X2 += 0.00000000458 * Math.cos(5.60102642086 + 629.0954035336 * t);
-        X2 += 0.00000000508 * Math.cos(4.89635261381 + 1994.5742626409 * t);
-        X2 += 0.00000000508 * Math.cos(4.89635261381 + 1994.08662767389 * t);
-        X2 += 0.00000000452 * Math.cos(2.67905981945 + 3.6883357796 * t);
-        X2 += 0.00000000527 * Math.cos(4.41239342340 + 597.60283414461 * t);
-        X2 += 0.00000000527 * Math.cos(6.21147753215 + 462.2667310116 * t);
-        X2 += 0.00000000555 * Math.cos(3.37057288042 + 3892.92548058051 * t);
-        X2 += 0.00000000464 * Math.cos(1.74325066579 + 1905.2209474569 * t);
-        X2 += 0.00000000535 * Math.cos(4.17138356606 + 2943.74987161071 * t);
-        X2 += 0.00000000535 * Math.cos(4.17138356606 + 2943.26223664369 * t);
-        X2 += 0.00000000450 * Math.cos(5.30706754834 + 3914.26612158291 * t);
-        X2 += 0.00000000390 * Math.cos(5.69507695721 + 2751.79141717511 * t);
-        X2 += 0.00000000511 * Math.cos(6.03743992199 + 643.32249753521 * t);
-        X2 += 0.00000000431 * Math.cos(2.42207911772 + 849.5080459724 * t);
-        X2 += 0.00000000464 * Math.cos(4.69682366854 + 2633.98391398789 * t);
-        X2 += 0.00000000486 * Math.cos(4.84373317918 + 2303.8525852967 * t);
-        X2 += 0.00000000412 * Math.cos(1.48548182287 + 2758.9049641759 * t);
-        X2 += 0.00000000423 * Math.cos(5.88986413302 + 1898.10740045609 * t);
-        X2 += 0.00000000457 * Math.cos(3.69523724581 + 519.15220687259 * t);
-        X2 += 0.00000000530 * Math.cos(1.25410178254 + 2221.6128171135 * t);
-        X2 += 0.00000000443 * Math.cos(0.57624758775 + 89.10949770051 * t);
-        X2 += 0.00000000478 * Math.cos(5.10332943513 + 2420.68481854989 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 190 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00016990902 * Math.cos(5.84326964724 + 522.8212355773 * t);
-        X3 += 0.00016795793 * Math.cos(4.75643108252 + 537.0483295789 * t);
-        X3 += 0.00005535565 * Math.cos(0.69030286987 + 0.2438174835 * t);
-        X3 += 0.00001711756 * Math.cos(3.37150503700 + 1059.6257476727 * t);
-        X3 += 0.00001437893 * Math.cos(5.97752044582 + 515.70768857651 * t);
-        X3 += 0.00001080832 * Math.cos(5.40982686420 + 1066.7392946735 * t);
-        X3 += 0.00001014927 * Math.cos(4.64326947068 + 544.1618765797 * t);
-        X3 += 0.00001080320 * Math.cos(6.20988832893 + 7.3573644843 * t);
-        X3 += 0.00000700816 * Math.cos(5.48708920252 + 1052.51220067191 * t);
-        X3 += 0.00000245290 * Math.cos(4.20564828134 + 1589.3167127673 * t);
-        X3 += 0.00000301422 * Math.cos(6.18874877941 + 14.47091148511 * t);
-        X3 += 0.00000233420 * Math.cos(1.79483227465 + 529.9347825781 * t);
-        X3 += 0.00000141715 * Math.cos(3.21962130849 + 529.44714761109 * t);
-        X3 += 0.00000134439 * Math.cos(4.93447341944 + 1045.3986536711 * t);
-        X3 += 0.00000078118 * Math.cos(6.00083895472 + 1596.43025976811 * t);
-        X3 += 0.00000076833 * Math.cos(0.88537843817 + 117.5636857037 * t);
-        X3 += 0.00000092926 * Math.cos(5.97429663193 + 323.74923414091 * t);
-        X3 += 0.00000078223 * Math.cos(0.68857971258 + 110.45013870291 * t);
-        X3 += 0.00000065879 * Math.cos(6.20010983926 + 109.9625037359 * t);
-        X3 += 0.00000058147 * Math.cos(6.14329253529 + 508.5941415757 * t);
-        X3 += 0.00000051718 * Math.cos(1.01900575462 + 95.7354097343 * t);
-        X3 += 0.00000058000 * Math.cos(0.45369239592 + 426.8420083595 * t);
-        X3 += 0.00000047055 * Math.cos(5.14517645295 + 1073.85284167431 * t);
-        X3 += 0.00000041297 * Math.cos(3.61714630670 + 633.0275567967 * t);
-        X3 += 0.00000056002 * Math.cos(4.58170066805 + 736.1203310153 * t);
-        X3 += 0.00000040590 * Math.cos(3.44189359091 + 942.3058794525 * t);
-        X3 += 0.00000036838 * Math.cos(4.76515425506 + 625.9140097959 * t);
-        X3 += 0.00000032307 * Math.cos(4.46032442444 + 551.27542358051 * t);
-        X3 += 0.00000038649 * Math.cos(5.90144372395 + 330.8627811417 * t);
-        X3 += 0.00000031637 * Math.cos(5.57280111823 + 1582.2031657665 * t);
-        X3 += 0.00000032315 * Math.cos(5.45702982437 + 433.9555553603 * t);
-        X3 += 0.00000037135 * Math.cos(2.05207397741 + 103.3365917021 * t);
-        X3 += 0.00000027869 * Math.cos(5.02736594295 + 220.6564599223 * t);
-        X3 += 0.00000027130 * Math.cos(4.72533930097 + 2119.00767786191 * t);
-        X3 += 0.00000027831 * Math.cos(3.47658936637 + 949.4194264533 * t);
-        X3 += 0.00000026529 * Math.cos(4.28803355000 + 1169.83206889211 * t);
-        X3 += 0.00000026303 * Math.cos(5.95970150804 + 419.72846135871 * t);
-        X3 += 0.00000027724 * Math.cos(5.01596447062 + 6.86972951729 * t);
-        X3 += 0.00000028942 * Math.cos(4.70013339156 + 729.0067840145 * t);
-        X3 += 0.00000024801 * Math.cos(1.98471609425 + 198.82818395289 * t);
-        X3 += 0.00000022666 * Math.cos(5.28389674207 + 1155.6049748905 * t);
-        X3 += 0.00000022463 * Math.cos(2.05657515244 + 956.53297345411 * t);
-        X3 += 0.00000024855 * Math.cos(0.38561886393 + 519.63984183961 * t);
-        X3 += 0.00000017587 * Math.cos(6.09056550431 + 21.5844584859 * t);
-        X3 += 0.00000020511 * Math.cos(3.90902530966 + 540.2297233166 * t);
-        X3 += 0.00000017573 * Math.cos(2.28775742180 + 205.9417309537 * t);
-        X3 += 0.00000019314 * Math.cos(4.20495563145 + 640.1411037975 * t);
-        X3 += 0.00000013850 * Math.cos(1.05364244327 + 853.4401992355 * t);
-        X3 += 0.00000013374 * Math.cos(4.92762205841 + 227.77000692311 * t);
-        X3 += 0.00000012226 * Math.cos(3.01621301164 + 522.3336006103 * t);
-        X3 += 0.00000011511 * Math.cos(4.04684166302 + 441.06910236111 * t);
-        X3 += 0.00000011785 * Math.cos(6.11408212844 + 412.6149143579 * t);
-        X3 += 0.00000009912 * Math.cos(2.91727446112 + 206.42936592071 * t);
-        X3 += 0.00000009439 * Math.cos(0.08289221852 + 618.8004627951 * t);
-        X3 += 0.00000009398 * Math.cos(4.84246640550 + 1038.2851066703 * t);
-        X3 += 0.00000009377 * Math.cos(5.60289942767 + 839.2131052339 * t);
-        X3 += 0.00000009606 * Math.cos(6.01169153580 + 426.3543733925 * t);
-        X3 += 0.00000011272 * Math.cos(2.94227399823 + 309.0345051723 * t);
-        X3 += 0.00000008495 * Math.cos(4.87340017026 + 536.5606946119 * t);
-        X3 += 0.00000007775 * Math.cos(0.77828391265 + 316.6356871401 * t);
-        X3 += 0.00000007402 * Math.cos(0.87870227189 + 412.12727939089 * t);
-        X3 += 0.00000009022 * Math.cos(5.05061886203 + 1575.08961876571 * t);
-        X3 += 0.00000007220 * Math.cos(6.11239376290 + 1258.6977491091 * t);
-        X3 += 0.00000006726 * Math.cos(5.70739192447 + 832.0995582331 * t);
-        X3 += 0.00000006944 * Math.cos(0.79854239865 + 309.5221401393 * t);
-        X3 += 0.00000007778 * Math.cos(2.92871658834 + 301.9209581715 * t);
-        X3 += 0.00000007986 * Math.cos(0.83091189689 + 213.0552779545 * t);
-        X3 += 0.00000005933 * Math.cos(0.24709144312 + 2126.1212248627 * t);
-        X3 += 0.00000005844 * Math.cos(3.31006297989 + 743.23387801611 * t);
-        X3 += 0.00000005965 * Math.cos(2.10263322732 + 515.2200536095 * t);
-        X3 += 0.00000004458 * Math.cos(3.94363208534 + 1059.1381127057 * t);
-        X3 += 0.00000003905 * Math.cos(5.84264336718 + 1265.81129610991 * t);
-        X3 += 0.00000004118 * Math.cos(0.75516336086 + 124.6772327045 * t);
-        X3 += 0.00000003669 * Math.cos(3.41470956201 + 1486.2239385487 * t);
-        X3 += 0.00000003534 * Math.cos(2.81641405410 + 625.42637482889 * t);
-        X3 += 0.00000003134 * Math.cos(4.93499952524 + 1699.5230339867 * t);
-        X3 += 0.00000002973 * Math.cos(5.75709909562 + 742.74624304909 * t);
-        X3 += 0.00000002686 * Math.cos(4.21604360019 + 88.6218627335 * t);
-        X3 += 0.00000003079 * Math.cos(3.56661827942 + 935.19233245171 * t);
-        X3 += 0.00000002579 * Math.cos(5.52509554050 + 1062.80714141041 * t);
-        X3 += 0.00000002378 * Math.cos(5.22398482496 + 2648.6986429565 * t);
-        X3 += 0.00000002346 * Math.cos(0.57872206639 + 728.5191490475 * t);
-        X3 += 0.00000003011 * Math.cos(4.13745406105 + 647.25465079831 * t);
-        X3 += 0.00000002322 * Math.cos(5.62530333683 + 1603.5438067689 * t);
-        X3 += 0.00000002809 * Math.cos(5.09173475362 + 1272.9248431107 * t);
-        X3 += 0.00000002701 * Math.cos(4.29236849013 + 1471.9968445471 * t);
-        X3 += 0.00000002369 * Math.cos(4.87717253226 + 721.8932370137 * t);
-        X3 += 0.00000002359 * Math.cos(5.74427423810 + 337.9763281425 * t);
-        X3 += 0.00000002423 * Math.cos(2.71447765750 + 618.3128278281 * t);
-        X3 += 0.00000002070 * Math.cos(1.48052642228 + 831.6119232661 * t);
-        X3 += 0.00000001958 * Math.cos(5.45174663546 + 526.7533888404 * t);
-        X3 += 0.00000001935 * Math.cos(2.01598572418 + 533.1161763158 * t);
-        X3 += 0.00000002297 * Math.cos(0.82936512542 + 1368.9040703285 * t);
-        X3 += 0.00000002015 * Math.cos(2.11557967911 + 191.7146369521 * t);
-        X3 += 0.00000002184 * Math.cos(5.63673637257 + 963.6465204549 * t);
-        X3 += 0.00000001685 * Math.cos(0.02501611955 + 1685.2959399851 * t);
-        X3 += 0.00000001816 * Math.cos(3.53877940742 + 1162.7185218913 * t);
-        X3 += 0.00000001733 * Math.cos(4.27157077977 + 750.3474250169 * t);
-        X3 += 0.00000001699 * Math.cos(5.67639711035 + 1055.6935944096 * t);
-        X3 += 0.00000001717 * Math.cos(3.76114243385 + 448.1826493619 * t);
-        X3 += 0.00000001811 * Math.cos(0.22568163048 + 860.55374623631 * t);
-        X3 += 0.00000001432 * Math.cos(4.43210549604 + 81.50831573269 * t);
-        X3 += 0.00000001779 * Math.cos(4.17528036440 + 1056.444353935 * t);
-        X3 += 0.00000001397 * Math.cos(0.57951822575 + 611.6869157943 * t);
-        X3 += 0.00000001563 * Math.cos(1.99224070438 + 838.72547026689 * t);
-        X3 += 0.00000001726 * Math.cos(0.87041746914 + 1361.79052332771 * t);
-        X3 += 0.00000001152 * Math.cos(1.70030030447 + 1383.13116433011 * t);
-        X3 += 0.00000001200 * Math.cos(2.12159906502 + 632.5399218297 * t);
-        X3 += 0.00000001145 * Math.cos(0.71912374834 + 405.5013673571 * t);
-        X3 += 0.00000001078 * Math.cos(3.60318956091 + 1479.11039154791 * t);
-        X3 += 0.00000001223 * Math.cos(4.59470445130 + 21.0968235189 * t);
-        X3 += 0.00000001051 * Math.cos(2.88376336111 + 526.00262931501 * t);
-        X3 += 0.00000001414 * Math.cos(2.28596268994 + 941.8182444855 * t);
-        X3 += 0.00000001030 * Math.cos(4.60899071471 + 533.8669358412 * t);
-        X3 += 0.00000001211 * Math.cos(4.41389386454 + 1069.92068841121 * t);
-        X3 += 0.00000001240 * Math.cos(2.35782844542 + 934.70469748469 * t);
-        X3 += 0.00000000944 * Math.cos(0.29242241358 + 1044.9110187041 * t);
-        X3 += 0.00000001091 * Math.cos(5.67396621358 + 2111.8941308611 * t);
-        X3 += 0.00000000986 * Math.cos(3.57242992336 + 2097.1794018925 * t);
-        X3 += 0.00000000967 * Math.cos(3.71520398332 + 1588.82907780029 * t);
-        X3 += 0.00000000939 * Math.cos(1.24033341734 + 13.9832765181 * t);
-        X3 += 0.00000000870 * Math.cos(3.50165707483 + 639.6534688305 * t);
-        X3 += 0.00000001013 * Math.cos(0.73509414390 + 1049.3308069342 * t);
-        X3 += 0.00000000989 * Math.cos(1.29758643303 + 1148.00379292269 * t);
-        X3 += 0.00000001043 * Math.cos(4.55359910492 + 1080.9663886751 * t);
-        X3 += 0.00000000824 * Math.cos(2.60527227567 + 433.46792039329 * t);
-        X3 += 0.00000001002 * Math.cos(5.58426670661 + 1788.38871420371 * t);
-        X3 += 0.00000000823 * Math.cos(3.61010169574 + 654.3681977991 * t);
-        X3 += 0.00000000801 * Math.cos(4.98281196861 + 1375.52998236229 * t);
-        X3 += 0.00000000890 * Math.cos(3.08710678609 + 294.80741117069 * t);
-        X3 += 0.00000000763 * Math.cos(4.57978148957 + 2421.1724535169 * t);
-        X3 += 0.00000000793 * Math.cos(4.53708667061 + 234.8835539239 * t);
-        X3 += 0.00000000752 * Math.cos(6.13454078435 + 1251.5842021083 * t);
-        X3 += 0.00000000788 * Math.cos(0.83160211061 + 302.40859313851 * t);
-        X3 += 0.00000000719 * Math.cos(1.71413188590 + 1787.9010792367 * t);
-        X3 += 0.00000000760 * Math.cos(5.06618363392 + 2104.7805838603 * t);
-        X3 += 0.00000000839 * Math.cos(0.13142328969 + 1898.5950354231 * t);
-        X3 += 0.00000000962 * Math.cos(0.09321612606 + 2318.0796792983 * t);
-        X3 += 0.00000000832 * Math.cos(0.14656820498 + 2001.68780964171 * t);
-        X3 += 0.00000000930 * Math.cos(2.01393320120 + 96.2230447013 * t);
-        X3 += 0.00000000879 * Math.cos(0.21241160083 + 845.8390172677 * t);
-        X3 += 0.00000000780 * Math.cos(5.93658042409 + 611.1992808273 * t);
-        X3 += 0.00000000900 * Math.cos(3.12757954089 + 1162.23088692429 * t);
-        X3 += 0.00000000759 * Math.cos(1.64043504780 + 2008.3137216755 * t);
-        X3 += 0.00000000715 * Math.cos(0.86869868609 + 1464.3956625793 * t);
-        X3 += 0.00000000780 * Math.cos(6.10062998423 + 2214.98690507971 * t);
-        X3 += 0.00000000679 * Math.cos(3.26847622660 + 2435.3995475185 * t);
-        X3 += 0.00000000809 * Math.cos(0.41722409643 + 1994.5742626409 * t);
-        X3 += 0.00000000772 * Math.cos(3.89077003744 + 220.16882495529 * t);
-        X3 += 0.00000000622 * Math.cos(0.43134297347 + 316.14805217309 * t);
-        X3 += 0.00000000612 * Math.cos(5.54465900470 + 749.8597900499 * t);
-        X3 += 0.00000000612 * Math.cos(5.84476543520 + 117.0760507367 * t);
-        X3 += 0.00000000713 * Math.cos(4.45141904690 + 1140.8902459219 * t);
-        X3 += 0.00000000626 * Math.cos(2.69322845144 + 1692.40948698591 * t);
-        X3 += 0.00000000676 * Math.cos(5.06415053228 + 2840.6570973921 * t);
-        X3 += 0.00000000594 * Math.cos(6.08554261343 + 102.84895673509 * t);
-        X3 += 0.00000000790 * Math.cos(1.96038787639 + 1251.0965671413 * t);
-        X3 += 0.00000000756 * Math.cos(6.21273062765 + 1148.49142788971 * t);
-        X3 += 0.00000000568 * Math.cos(2.41561339810 + 1141.3778808889 * t);
-        X3 += 0.00000000616 * Math.cos(5.32006450469 + 2524.2652277355 * t);
-        X3 += 0.00000000560 * Math.cos(1.32052284871 + 2104.2929488933 * t);
-        X3 += 0.00000000686 * Math.cos(6.16886011032 + 2627.3580019541 * t);
-        X3 += 0.00000000720 * Math.cos(2.07248159341 + 1258.21011414209 * t);
-        X3 += 0.00000000733 * Math.cos(1.40692108080 + 1884.36794142151 * t);
-        X3 += 0.00000000583 * Math.cos(3.07032575150 + 2751.79141717511 * t);
-        X3 += 0.00000000546 * Math.cos(4.30523957810 + 543.6742416127 * t);
-        X3 += 0.00000000530 * Math.cos(5.36356787938 + 1066.2516597065 * t);
-        X3 += 0.00000000581 * Math.cos(0.74040675650 + 1780.78753223589 * t);
-        X3 += 0.00000000523 * Math.cos(2.35523231154 + 1471.50920958009 * t);
-        X3 += 0.00000000508 * Math.cos(1.53637927432 + 508.10650660869 * t);
-        X3 += 0.00000000645 * Math.cos(5.04939320209 + 2015.9149036433 * t);
-        X3 += 0.00000000553 * Math.cos(3.77158096643 + 852.9525642685 * t);
-        X3 += 0.00000000480 * Math.cos(1.48751125961 + 1677.6947580173 * t);
-        X3 += 0.00000000480 * Math.cos(1.48751125961 + 1678.1823929843 * t);
-        X3 += 0.00000000618 * Math.cos(4.58568946876 + 1905.70858242391 * t);
-        X3 += 0.00000000463 * Math.cos(2.69346041416 + 89.10949770051 * t);
-        X3 += 0.00000000512 * Math.cos(1.92658763463 + 1155.1173399235 * t);
-        X3 += 0.00000000497 * Math.cos(5.24109179268 + 1376.0176173293 * t);
-        X3 += 0.00000000529 * Math.cos(3.98646203660 + 1802.6158082053 * t);
-        X3 += 0.00000000617 * Math.cos(6.12621305930 + 2634.47154895491 * t);
-        X3 += 0.00000000459 * Math.cos(4.38908201999 + 1691.9218520189 * t);
-        X3 += 0.00000000503 * Math.cos(5.14894098049 + 948.9317914863 * t);
-        X3 += 0.00000000547 * Math.cos(0.16414935856 + 2310.9661322975 * t);
-        X3 += 0.00000000432 * Math.cos(2.24745181738 + 1567.48843679789 * t);
-        X3 += 0.00000000432 * Math.cos(5.38904447097 + 1567.9760717649 * t);
-        X3 += 0.00000000419 * Math.cos(0.18825223729 + 1361.3028883607 * t);
-        X3 += 0.00000000415 * Math.cos(1.22669638769 + 558.3889705813 * t);
-        X3 += 0.00000000415 * Math.cos(6.25558191427 + 501.4805945749 * t);
-        X3 += 0.00000000413 * Math.cos(5.02515661889 + 1883.8803064545 * t);
-        X3 += 0.00000000436 * Math.cos(4.68517073519 + 1464.8832975463 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 73 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00001739145 * Math.cos(2.99660018877 + 537.0483295789 * t);
-        X4 += 0.00001740807 * Math.cos(1.29193923641 + 522.8212355773 * t);
-        X4 += 0.00000593812 * Math.cos(5.24154438099 + 529.9347825781 * t);
-        X4 += 0.00000303714 * Math.cos(1.42080900852 + 515.70768857651 * t);
-        X4 += 0.00000216971 * Math.cos(2.90416346781 + 544.1618765797 * t);
-        X4 += 0.00000201301 * Math.cos(2.23147367590 + 0.2438174835 * t);
-        X4 += 0.00000128314 * Math.cos(3.79998656469 + 1066.7392946735 * t);
-        X4 += 0.00000084519 * Math.cos(4.38013747176 + 7.3573644843 * t);
-        X4 += 0.00000066713 * Math.cos(1.02569869600 + 1052.51220067191 * t);
-        X4 += 0.00000050914 * Math.cos(4.46050047710 + 14.47091148511 * t);
-        X4 += 0.00000056189 * Math.cos(1.24300511536 + 1059.6257476727 * t);
-        X4 += 0.00000023551 * Math.cos(0.46257856947 + 1045.3986536711 * t);
-        X4 += 0.00000014975 * Math.cos(1.64416256689 + 508.5941415757 * t);
-        X4 += 0.00000012320 * Math.cos(2.75903076030 + 1589.3167127673 * t);
-        X4 += 0.00000010412 * Math.cos(3.45236443524 + 1073.85284167431 * t);
-        X4 += 0.00000010436 * Math.cos(4.47365597327 + 1596.43025976811 * t);
-        X4 += 0.00000010171 * Math.cos(5.43199507160 + 117.5636857037 * t);
-        X4 += 0.00000007028 * Math.cos(4.53417325848 + 109.9625037359 * t);
-        X4 += 0.00000007310 * Math.cos(2.57204763203 + 551.27542358051 * t);
-        X4 += 0.00000005867 * Math.cos(2.76327576305 + 95.7354097343 * t);
-        X4 += 0.00000005482 * Math.cos(4.10723362761 + 323.74923414091 * t);
-        X4 += 0.00000005308 * Math.cos(4.17493851179 + 330.8627811417 * t);
-        X4 += 0.00000005155 * Math.cos(5.15140142409 + 942.3058794525 * t);
-        X4 += 0.00000004404 * Math.cos(0.12688032419 + 729.0067840145 * t);
-        X4 += 0.00000003429 * Math.cos(0.28270437324 + 625.9140097959 * t);
-        X4 += 0.00000003596 * Math.cos(4.90660665484 + 110.45013870291 * t);
-        X4 += 0.00000003379 * Math.cos(3.68348076405 + 198.82818395289 * t);
-        X4 += 0.00000002870 * Math.cos(1.39677778907 + 529.44714761109 * t);
-        X4 += 0.00000003465 * Math.cos(0.05238096193 + 736.1203310153 * t);
-        X4 += 0.00000002781 * Math.cos(1.08815967748 + 1582.2031657665 * t);
-        X4 += 0.00000002710 * Math.cos(2.38998980124 + 441.06910236111 * t);
-        X4 += 0.00000002621 * Math.cos(2.53533210188 + 1169.83206889211 * t);
-        X4 += 0.00000002851 * Math.cos(3.77906778388 + 103.3365917021 * t);
-        X4 += 0.00000003222 * Math.cos(3.34043716023 + 433.9555553603 * t);
-        X4 += 0.00000002252 * Math.cos(0.76740108556 + 1155.6049748905 * t);
-        X4 += 0.00000002643 * Math.cos(4.66187220612 + 426.8420083595 * t);
-        X4 += 0.00000002565 * Math.cos(6.07676238286 + 6.86972951729 * t);
-        X4 += 0.00000002154 * Math.cos(1.93925275699 + 618.8004627951 * t);
-        X4 += 0.00000002044 * Math.cos(1.48052835765 + 419.72846135871 * t);
-        X4 += 0.00000001513 * Math.cos(3.17740670423 + 220.6564599223 * t);
-        X4 += 0.00000001619 * Math.cos(5.33278235904 + 633.0275567967 * t);
-        X4 += 0.00000001503 * Math.cos(3.23684234354 + 2119.00767786191 * t);
-        X4 += 0.00000001422 * Math.cos(3.21419588854 + 227.77000692311 * t);
-        X4 += 0.00000001448 * Math.cos(0.63548633830 + 1575.08961876571 * t);
-        X4 += 0.00000001354 * Math.cos(0.37531194856 + 956.53297345411 * t);
-        X4 += 0.00000001398 * Math.cos(4.66226122647 + 301.9209581715 * t);
-        X4 += 0.00000001551 * Math.cos(2.51719031322 + 640.1411037975 * t);
-        X4 += 0.00000001193 * Math.cos(5.69090306000 + 853.4401992355 * t);
-        X4 += 0.00000001228 * Math.cos(3.32529407238 + 536.5606946119 * t);
-        X4 += 0.00000001153 * Math.cos(4.24056902908 + 426.3543733925 * t);
-        X4 += 0.00000001111 * Math.cos(1.82993073798 + 309.5221401393 * t);
-        X4 += 0.00000001322 * Math.cos(1.52760953063 + 412.6149143579 * t);
-        X4 += 0.00000001137 * Math.cos(1.63346191003 + 1258.6977491091 * t);
-        X4 += 0.00000000987 * Math.cos(5.01376257502 + 522.3336006103 * t);
-        X4 += 0.00000000937 * Math.cos(1.26232145651 + 618.3128278281 * t);
-        X4 += 0.00000000830 * Math.cos(2.55897013457 + 412.12727939089 * t);
-        X4 += 0.00000000868 * Math.cos(0.67939405545 + 1038.2851066703 * t);
-        X4 += 0.00000000819 * Math.cos(0.85929624974 + 742.74624304909 * t);
-        X4 += 0.00000000952 * Math.cos(0.08637090339 + 831.6119232661 * t);
-        X4 += 0.00000000903 * Math.cos(5.28542287743 + 949.4194264533 * t);
-        X4 += 0.00000000740 * Math.cos(1.11419070098 + 832.0995582331 * t);
-        X4 += 0.00000000726 * Math.cos(1.10542550627 + 839.2131052339 * t);
-        X4 += 0.00000000890 * Math.cos(2.70182272881 + 647.25465079831 * t);
-        X4 += 0.00000000672 * Math.cos(3.82581500735 + 102.84895673509 * t);
-        X4 += 0.00000000598 * Math.cos(4.03229295405 + 337.9763281425 * t);
-        X4 += 0.00000000711 * Math.cos(3.79919685217 + 515.2200536095 * t);
-        X4 += 0.00000000557 * Math.cos(2.29520680686 + 1486.2239385487 * t);
-        X4 += 0.00000000506 * Math.cos(2.29510505753 + 1059.1381127057 * t);
-        X4 += 0.00000000464 * Math.cos(1.33006467962 + 117.0760507367 * t);
-        X4 += 0.00000000479 * Math.cos(6.24011460202 + 526.7533888404 * t);
-        X4 += 0.00000000451 * Math.cos(0.61581620782 + 1471.9968445471 * t);
-        X4 += 0.00000000466 * Math.cos(1.24608768657 + 533.1161763158 * t);
-        X4 += 0.00000000396 * Math.cos(3.90384143043 + 1603.5438067689 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 15 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000131509 * Math.cos(1.09720765135 + 537.0483295789 * t);
-        X5 += 0.00000126839 * Math.cos(3.14566028359 + 522.8212355773 * t);
-        X5 += 0.00000048033 * Math.cos(3.18247744923 + 515.70768857651 * t);
-        X5 += 0.00000034241 * Math.cos(1.11319864554 + 544.1618765797 * t);
-        X5 += 0.00000011284 * Math.cos(2.13882736419 + 1066.7392946735 * t);
-        X5 += 0.00000005229 * Math.cos(2.44608299466 + 0.2438174835 * t);
-        X5 += 0.00000003712 * Math.cos(3.28596952033 + 1052.51220067191 * t);
-        X5 += 0.00000004457 * Math.cos(5.28755623884 + 529.9347825781 * t);
-        X5 += 0.00000001949 * Math.cos(1.73980382124 + 1073.85284167431 * t);
-        X5 += 0.00000001738 * Math.cos(4.99242464275 + 1059.6257476727 * t);
-        X5 += 0.00000001716 * Math.cos(3.05846955779 + 1045.3986536711 * t);
-        X5 += 0.00000000879 * Math.cos(3.22039268284 + 508.5941415757 * t);
-        X5 += 0.00000000886 * Math.cos(4.22728564482 + 551.27542358051 * t);
-        X5 += 0.00000000665 * Math.cos(1.57102457622 + 7.3573644843 * t);
-        X5 += 0.00000000466 * Math.cos(2.85877844081 + 1596.43025976811 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1272 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 5.19591755961 * Math.cos(5.31193570238 + 529.9347825781 * t);
-        Y0 += 0.37839498798 * Math.cos(1.82085166331 + 0.2438174835 * t);
-        Y0 += 0.12593400247 * Math.cos(5.66155354525 + 1059.6257476727 * t);
-        Y0 += 0.01504469362 * Math.cos(5.44173895105 + 522.8212355773 * t);
-        Y0 += 0.01476016965 * Math.cos(2.04668425902 + 537.0483295789 * t);
-        Y0 += 0.00457751771 * Math.cos(6.01125846140 + 1589.3167127673 * t);
-        Y0 += 0.00301186623 * Math.cos(3.60619939116 + 7.3573644843 * t);
-        Y0 += 0.00381996183 * Math.cos(3.55684846636 + 102.84895673509 * t);
-        Y0 += 0.00193179179 * Math.cos(3.45595232302 + 426.8420083595 * t);
-        Y0 += 0.00148291722 * Math.cos(4.58538691397 + 110.45013870291 * t);
-        Y0 += 0.00142171400 * Math.cos(3.99477000498 + 633.0275567967 * t);
-        Y0 += 0.00133443745 * Math.cos(5.60526571675 + 213.5429129215 * t);
-        Y0 += 0.00102719450 * Math.cos(4.59936785476 + 1052.51220067191 * t);
-        Y0 += 0.00087327523 * Math.cos(1.56302538060 + 529.44714761109 * t);
-        Y0 += 0.00114122292 * Math.cos(4.72894061449 + 1162.7185218913 * t);
-        Y0 += 0.00072093376 * Math.cos(2.39043228390 + 1066.7392946735 * t);
-        Y0 += 0.00059268404 * Math.cos(2.89107868692 + 949.4194264533 * t);
-        Y0 += 0.00068329094 * Math.cos(1.86754138371 + 846.3266522347 * t);
-        Y0 += 0.00030209026 * Math.cos(4.54186591923 + 205.9417309537 * t);
-        Y0 += 0.00034007392 * Math.cos(3.31774226555 + 419.2408263917 * t);
-        Y0 += 0.00026616582 * Math.cos(3.28146731015 + 323.74923414091 * t);
-        Y0 += 0.00019727427 * Math.cos(0.07815264028 + 2119.00767786191 * t);
-        Y0 += 0.00017749540 * Math.cos(5.55480049652 + 419.72846135871 * t);
-        Y0 += 0.00017560618 * Math.cos(0.38432139040 + 316.6356871401 * t);
-        Y0 += 0.00016308761 * Math.cos(4.16521301086 + 736.1203310153 * t);
-        Y0 += 0.00016227856 * Math.cos(5.58096312351 + 515.70768857651 * t);
-        Y0 += 0.00014406626 * Math.cos(0.49204486417 + 743.23387801611 * t);
-        Y0 += 0.00011421526 * Math.cos(1.91077907185 + 544.1618765797 * t);
-        Y0 += 0.00010835166 * Math.cos(1.62316112493 + 103.3365917021 * t);
-        Y0 += 0.00012154356 * Math.cos(2.18151132345 + 526.00262931501 * t);
-        Y0 += 0.00011992571 * Math.cos(5.29747555409 + 533.8669358412 * t);
-        Y0 += 0.00008455662 * Math.cos(1.90801507290 + 640.1411037975 * t);
-        Y0 += 0.00008193182 * Math.cos(3.99950988528 + 1479.11039154791 * t);
-        Y0 += 0.00008713455 * Math.cos(5.09554104540 + 1692.40948698591 * t);
-        Y0 += 0.00007420814 * Math.cos(4.41221626331 + 956.53297345411 * t);
-        Y0 += 0.00007565993 * Math.cos(5.61829156567 + 1265.81129610991 * t);
-        Y0 += 0.00008202922 * Math.cos(2.98736132250 + 735.6326960483 * t);
-        Y0 += 0.00007717111 * Math.cos(4.84373719017 + 1582.2031657665 * t);
-        Y0 += 0.00005320837 * Math.cos(5.81736694969 + 526.7533888404 * t);
-        Y0 += 0.00005217759 * Math.cos(1.66167068417 + 533.1161763158 * t);
-        Y0 += 0.00005238212 * Math.cos(4.68306641983 + 522.3336006103 * t);
-        Y0 += 0.00005774716 * Math.cos(3.46781064586 + 14.47091148511 * t);
-        Y0 += 0.00005907614 * Math.cos(0.27080776672 + 109.9625037359 * t);
-        Y0 += 0.00004575512 * Math.cos(2.18559360651 + 1376.0176173293 * t);
-        Y0 += 0.00003939870 * Math.cos(2.73821792955 + 1596.43025976811 * t);
-        Y0 += 0.00004568269 * Math.cos(3.71733952931 + 95.7354097343 * t);
-        Y0 += 0.00003036375 * Math.cos(5.51572587470 + 309.0345051723 * t);
-        Y0 += 0.00002856672 * Math.cos(4.44258466917 + 117.5636857037 * t);
-        Y0 += 0.00002820138 * Math.cos(0.55276658901 + 632.5399218297 * t);
-        Y0 += 0.00002442859 * Math.cos(2.66976611024 + 433.9555553603 * t);
-        Y0 += 0.00002534517 * Math.cos(4.61010280175 + 625.9140097959 * t);
-        Y0 += 0.00002329307 * Math.cos(1.22761098421 + 213.0552779545 * t);
-        Y0 += 0.00002430903 * Math.cos(2.32333761217 + 220.6564599223 * t);
-        Y0 += 0.00002673686 * Math.cos(1.61750799699 + 1169.83206889211 * t);
-        Y0 += 0.00002396896 * Math.cos(4.36221151655 + 1045.3986536711 * t);
-        Y0 += 0.00002503065 * Math.cos(2.72526085550 + 1052.02456570489 * t);
-        Y0 += 0.00001817118 * Math.cos(3.95907641758 + 838.72547026689 * t);
-        Y0 += 0.00002014206 * Math.cos(4.88058047490 + 1155.6049748905 * t);
-        Y0 += 0.00001501452 * Math.cos(3.03509232132 + 942.3058794525 * t);
-        Y0 += 0.00001454916 * Math.cos(4.18897174343 + 853.4401992355 * t);
-        Y0 += 0.00001628897 * Math.cos(3.92104093589 + 75.0254160508 * t);
-        Y0 += 0.00001106760 * Math.cos(5.64732593309 + 6.86972951729 * t);
-        Y0 += 0.00001080777 * Math.cos(0.43950996921 + 316.14805217309 * t);
-        Y0 += 0.00001041755 * Math.cos(4.81940326599 + 1795.5022612045 * t);
-        Y0 += 0.00000996914 * Math.cos(1.51229276007 + 1272.9248431107 * t);
-        Y0 += 0.00000928877 * Math.cos(4.68477803335 + 198.82818395289 * t);
-        Y0 += 0.00000934490 * Math.cos(0.42872611846 + 2648.6986429565 * t);
-        Y0 += 0.00000858575 * Math.cos(2.14237368311 + 529.88659846831 * t);
-        Y0 += 0.00000858481 * Math.cos(5.34018482611 + 529.9829666879 * t);
-        Y0 += 0.00001088006 * Math.cos(5.84659040992 + 527.4871020233 * t);
-        Y0 += 0.00001080077 * Math.cos(1.63448618678 + 532.3824631329 * t);
-        Y0 += 0.00000958229 * Math.cos(6.06015323795 + 149.8070146181 * t);
-        Y0 += 0.00000830762 * Math.cos(5.25949378156 + 625.42637482889 * t);
-        Y0 += 0.00000815889 * Math.cos(1.66863411356 + 1059.1381127057 * t);
-        Y0 += 0.00000838684 * Math.cos(5.82302302292 + 3.6883357796 * t);
-        Y0 += 0.00000956674 * Math.cos(0.63174409236 + 379.8839504765 * t);
-        Y0 += 0.00000694759 * Math.cos(3.69145164541 + 1155.1173399235 * t);
-        Y0 += 0.00000673874 * Math.cos(4.52164149268 + 2008.8013566425 * t);
-        Y0 += 0.00000865777 * Math.cos(0.10096193323 + 426.3543733925 * t);
-        Y0 += 0.00000897730 * Math.cos(2.48087145339 + 1368.4164353615 * t);
-        Y0 += 0.00000667422 * Math.cos(0.38400668832 + 1368.9040703285 * t);
-        Y0 += 0.00000747747 * Math.cos(3.13927711168 + 330.8627811417 * t);
-        Y0 += 0.00000693620 * Math.cos(6.05103606639 + 1063.55790093581 * t);
-        Y0 += 0.00000787813 * Math.cos(5.11429018504 + 839.2131052339 * t);
-        Y0 += 0.00000614978 * Math.cos(4.83788756913 + 2111.8941308611 * t);
-        Y0 += 0.00000680352 * Math.cos(5.00624167079 + 528.9715747316 * t);
-        Y0 += 0.00000678592 * Math.cos(2.47610569321 + 530.89799042461 * t);
-        Y0 += 0.00000574130 * Math.cos(5.45801133464 + 2222.1004520805 * t);
-        Y0 += 0.00000644748 * Math.cos(3.49842430477 + 412.12727939089 * t);
-        Y0 += 0.00000742423 * Math.cos(2.38906516060 + 206.42936592071 * t);
-        Y0 += 0.00000563602 * Math.cos(2.49278594908 + 1055.6935944096 * t);
-        Y0 += 0.00000559331 * Math.cos(4.30651563744 + 729.0067840145 * t);
-        Y0 += 0.00000647539 * Math.cos(3.55462405942 + 984.8441491054 * t);
-        Y0 += 0.00000460071 * Math.cos(2.25575075230 + 1073.85284167431 * t);
-        Y0 += 0.00000403270 * Math.cos(5.70558430216 + 412.6149143579 * t);
-        Y0 += 0.00000539827 * Math.cos(3.74550987414 + 38.3768531213 * t);
-        Y0 += 0.00000407824 * Math.cos(1.41749002358 + 910.0625505381 * t);
-        Y0 += 0.00000319575 * Math.cos(4.92965704995 + 941.8182444855 * t);
-        Y0 += 0.00000301187 * Math.cos(2.49363421546 + 1905.70858242391 * t);
-        Y0 += 0.00000330186 * Math.cos(5.17961869781 + 948.9317914863 * t);
-        Y0 += 0.00000334161 * Math.cos(5.66579079606 + 76.50988875911 * t);
-        Y0 += 0.00000292241 * Math.cos(3.42430216936 + 1471.50920958009 * t);
-        Y0 += 0.00000388960 * Math.cos(4.48974750232 + 604.7163811454 * t);
-        Y0 += 0.00000387023 * Math.cos(2.95645101689 + 455.1531840108 * t);
-        Y0 += 0.00000303530 * Math.cos(3.49353690436 + 529.4135177163 * t);
-        Y0 += 0.00000303139 * Math.cos(3.98877079900 + 530.45604743991 * t);
-        Y0 += 0.00000276704 * Math.cos(5.36713470530 + 1486.2239385487 * t);
-        Y0 += 0.00000383222 * Math.cos(3.32437927262 + 3.42521122121 * t);
-        Y0 += 0.00000267964 * Math.cos(0.44358626370 + 309.5221401393 * t);
-        Y0 += 0.00000270827 * Math.cos(5.75355417511 + 1258.6977491091 * t);
-        Y0 += 0.00000264824 * Math.cos(4.51845894459 + 536.5606946119 * t);
-        Y0 += 0.00000342262 * Math.cos(2.22920476980 + 1684.80830501809 * t);
-        Y0 += 0.00000254392 * Math.cos(2.01389858651 + 1062.80714141041 * t);
-        Y0 += 0.00000289891 * Math.cos(5.95965968983 + 742.74624304909 * t);
-        Y0 += 0.00000227013 * Math.cos(3.08717315673 + 2126.1212248627 * t);
-        Y0 += 0.00000219942 * Math.cos(4.62508932315 + 515.2200536095 * t);
-        Y0 += 0.00000304124 * Math.cos(0.18282516849 + 6283.3196674749 * t);
-        Y0 += 0.00000289590 * Math.cos(4.54086778359 + 305.10235190919 * t);
-        Y0 += 0.00000225217 * Math.cos(1.93067375292 + 1699.5230339867 * t);
-        Y0 += 0.00000192734 * Math.cos(5.73241739600 + 508.5941415757 * t);
-        Y0 += 0.00000181955 * Math.cos(5.49121576696 + 1898.5950354231 * t);
-        Y0 += 0.00000180824 * Math.cos(4.33642523532 + 1265.32366114289 * t);
-        Y0 += 0.00000234431 * Math.cos(5.63602319498 + 1056.444353935 * t);
-        Y0 += 0.00000210412 * Math.cos(2.44959263747 + 490.5779066629 * t);
-        Y0 += 0.00000178960 * Math.cos(4.53074727531 + 527.01402127131 * t);
-        Y0 += 0.00000184077 * Math.cos(4.02561581206 + 1471.9968445471 * t);
-        Y0 += 0.00000177005 * Math.cos(2.95243370745 + 532.8555438849 * t);
-        Y0 += 0.00000197754 * Math.cos(4.65708333161 + 1575.08961876571 * t);
-        Y0 += 0.00000201548 * Math.cos(3.17115080743 + 728.5191490475 * t);
-        Y0 += 0.00000164871 * Math.cos(1.90607027544 + 529.1840230527 * t);
-        Y0 += 0.00000164585 * Math.cos(5.57619441078 + 530.68554210351 * t);
-        Y0 += 0.00000191757 * Math.cos(5.01987763082 + 569.29165849331 * t);
-        Y0 += 0.00000155012 * Math.cos(5.97029570081 + 519.63984183961 * t);
-        Y0 += 0.00000216423 * Math.cos(0.97167033032 + 453.1810763355 * t);
-        Y0 += 0.00000208270 * Math.cos(1.82244512865 + 1439.75351563271 * t);
-        Y0 += 0.00000195461 * Math.cos(5.41018940348 + 1685.2959399851 * t);
-        Y0 += 0.00000158021 * Math.cos(2.75745977713 + 525.7419968841 * t);
-        Y0 += 0.00000155478 * Math.cos(4.72687069685 + 534.1275682721 * t);
-        Y0 += 0.00000142916 * Math.cos(0.78899783107 + 11.2895177474 * t);
-        Y0 += 0.00000166137 * Math.cos(2.08946903667 + 224.5886131854 * t);
-        Y0 += 0.00000139568 * Math.cos(1.78496043471 + 647.25465079831 * t);
-        Y0 += 0.00000194718 * Math.cos(3.73420656967 + 1021.49271203491 * t);
-        Y0 += 0.00000142687 * Math.cos(4.63478591519 + 1258.21011414209 * t);
-        Y0 += 0.00000136501 * Math.cos(4.43284450396 + 99.40443843901 * t);
-        Y0 += 0.00000155156 * Math.cos(0.59258028164 + 845.8390172677 * t);
-        Y0 += 0.00000148749 * Math.cos(5.65218277636 + 301.9209581715 * t);
-        Y0 += 0.00000142483 * Math.cos(2.18605854450 + 227.77000692311 * t);
-        Y0 += 0.00000128042 * Math.cos(0.68370572776 + 1162.23088692429 * t);
-        Y0 += 0.00000129196 * Math.cos(3.16003204274 + 1787.9010792367 * t);
-        Y0 += 0.00000176884 * Math.cos(1.60517740492 + 10213.5293636945 * t);
-        Y0 += 0.00000120579 * Math.cos(1.51220345630 + 540.2297233166 * t);
-        Y0 += 0.00000163945 * Math.cos(0.44168564921 + 1.7282901918 * t);
-        Y0 += 0.00000135003 * Math.cos(2.22806039362 + 540.98048284201 * t);
-        Y0 += 0.00000121846 * Math.cos(2.21825172668 + 524.3057082856 * t);
-        Y0 += 0.00000120032 * Math.cos(5.26558395487 + 535.56385687061 * t);
-        Y0 += 0.00000124238 * Math.cos(1.81767045547 + 983.3596763971 * t);
-        Y0 += 0.00000123682 * Math.cos(1.77349067432 + 525.26891613211 * t);
-        Y0 += 0.00000104430 * Math.cos(5.28755763826 + 530.0948412725 * t);
-        Y0 += 0.00000104430 * Math.cos(2.19472066370 + 529.7747238837 * t);
-        Y0 += 0.00000136458 * Math.cos(1.98358578274 + 2001.2001746747 * t);
-        Y0 += 0.00000115988 * Math.cos(1.78467759503 + 750.3474250169 * t);
-        Y0 += 0.00000104731 * Math.cos(1.75643097216 + 551.27542358051 * t);
-        Y0 += 0.00000100945 * Math.cos(3.93006785022 + 1581.7155307995 * t);
-        Y0 += 0.00000116158 * Math.cos(5.71003623422 + 534.6006490241 * t);
-        Y0 += 0.00000122805 * Math.cos(3.33550817409 + 524.5181566067 * t);
-        Y0 += 0.00000103104 * Math.cos(2.84340091211 + 963.6465204549 * t);
-        Y0 += 0.00000115142 * Math.cos(5.03053273280 + 2325.1932262991 * t);
-        Y0 += 0.00000120928 * Math.cos(4.14505296195 + 535.35140854951 * t);
-        Y0 += 0.00000094293 * Math.cos(1.67313940200 + 1802.6158082053 * t);
-        Y0 += 0.00000092521 * Math.cos(4.73521093464 + 1383.13116433011 * t);
-        Y0 += 0.00000085964 * Math.cos(4.10984886270 + 831.6119232661 * t);
-        Y0 += 0.00000091882 * Math.cos(1.46390569496 + 441.06910236111 * t);
-        Y0 += 0.00000090884 * Math.cos(1.07143309047 + 4.1759707466 * t);
-        Y0 += 0.00000096153 * Math.cos(3.31598430560 + 21.5844584859 * t);
-        Y0 += 0.00000073111 * Math.cos(4.24231833095 + 415.7963080956 * t);
-        Y0 += 0.00000072096 * Math.cos(5.03046144250 + 529.72233425701 * t);
-        Y0 += 0.00000072096 * Math.cos(2.45181685946 + 530.1472308992 * t);
-        Y0 += 0.00000095408 * Math.cos(4.36670590047 + 35.6685401356 * t);
-        Y0 += 0.00000079513 * Math.cos(5.39469246290 + 835.28095197081 * t);
-        Y0 += 0.00000068517 * Math.cos(4.34434516091 + 1574.6019837987 * t);
-        Y0 += 0.00000069848 * Math.cos(4.98758055977 + 518.8890823142 * t);
-        Y0 += 0.00000073288 * Math.cos(5.26346329278 + 832.0995582331 * t);
-        Y0 += 0.00000073790 * Math.cos(2.94904494716 + 1044.9110187041 * t);
-        Y0 += 0.00000062635 * Math.cos(5.05973221161 + 2214.98690507971 * t);
-        Y0 += 0.00000072372 * Math.cos(4.07908178910 + 511.7755353134 * t);
-        Y0 += 0.00000079774 * Math.cos(5.75946246773 + 618.8004627951 * t);
-        Y0 += 0.00000084465 * Math.cos(2.02066705387 + 834.7933170038 * t);
-        Y0 += 0.00000082357 * Math.cos(1.01171039674 + 531.4192552864 * t);
-        Y0 += 0.00000068826 * Math.cos(3.41224512535 + 548.0940298428 * t);
-        Y0 += 0.00000058994 * Math.cos(2.89954202085 + 2104.2929488933 * t);
-        Y0 += 0.00000069760 * Math.cos(0.41067157485 + 98.91680347199 * t);
-        Y0 += 0.00000074013 * Math.cos(2.84831536831 + 174.1860370063 * t);
-        Y0 += 0.00000055680 * Math.cos(3.22751869738 + 644.0732570606 * t);
-        Y0 += 0.00000077878 * Math.cos(0.16446911156 + 528.4503098698 * t);
-        Y0 += 0.00000054479 * Math.cos(3.59326916447 + 1898.10740045609 * t);
-        Y0 += 0.00000055045 * Math.cos(3.71209514844 + 639.6534688305 * t);
-        Y0 += 0.00000053073 * Math.cos(0.40077660714 + 1048.58004740881 * t);
-        Y0 += 0.00000052282 * Math.cos(3.04928542911 + 960.4651267172 * t);
-        Y0 += 0.00000051560 * Math.cos(0.07590120615 + 514.95692905111 * t);
-        Y0 += 0.00000052703 * Math.cos(5.01527928588 + 2641.5850959557 * t);
-        Y0 += 0.00000066188 * Math.cos(2.16852924204 + 230.3207533419 * t);
-        Y0 += 0.00000049711 * Math.cos(1.12330761789 + 544.9126361051 * t);
-        Y0 += 0.00000049029 * Math.cos(1.60521275283 + 387.4851324443 * t);
-        Y0 += 0.00000065960 * Math.cos(5.74241303706 + 1364.9719170654 * t);
-        Y0 += 0.00000052715 * Math.cos(6.19618088387 + 1057.1780671179 * t);
-        Y0 += 0.00000058796 * Math.cos(5.92972662777 + 39.1130584317 * t);
-        Y0 += 0.00000059809 * Math.cos(2.23693717498 + 91.8032564712 * t);
-        Y0 += 0.00000046231 * Math.cos(4.96698555728 + 2538.4923217371 * t);
-        Y0 += 0.00000048382 * Math.cos(4.05069063760 + 2428.2860005177 * t);
-        Y0 += 0.00000060070 * Math.cos(2.20914086650 + 1062.0734282275 * t);
-        Y0 += 0.00000056428 * Math.cos(1.74520780023 + 2317.5920443313 * t);
-        Y0 += 0.00000059945 * Math.cos(5.60557419941 + 494.510059926 * t);
-        Y0 += 0.00000043719 * Math.cos(1.93646240538 + 2.20386307129 * t);
-        Y0 += 0.00000048181 * Math.cos(5.35729954844 + 618.3128278281 * t);
-        Y0 += 0.00000049751 * Math.cos(0.31062429353 + 679.4979797127 * t);
-        Y0 += 0.00000058551 * Math.cos(0.74219345496 + 1058.14127496441 * t);
-        Y0 += 0.00000047067 * Math.cos(0.78230316551 + 3178.38960805111 * t);
-        Y0 += 0.00000052897 * Math.cos(3.51938305050 + 106.7811099982 * t);
-        Y0 += 0.00000041687 * Math.cos(5.68958878057 + 1059.67393178251 * t);
-        Y0 += 0.00000041782 * Math.cos(1.87606562860 + 71.09326278771 * t);
-        Y0 += 0.00000043674 * Math.cos(5.93139897307 + 430.7741616226 * t);
-        Y0 += 0.00000044776 * Math.cos(3.31656958399 + 312.70353387701 * t);
-        Y0 += 0.00000048969 * Math.cos(4.37808022467 + 1038.2851066703 * t);
-        Y0 += 0.00000038530 * Math.cos(3.84889420737 + 1148.00379292269 * t);
-        Y0 += 0.00000052006 * Math.cos(1.89655384425 + 565.35950523021 * t);
-        Y0 += 0.00000047878 * Math.cos(5.49999542741 + 1375.52998236229 * t);
-        Y0 += 0.00000038108 * Math.cos(5.00245348220 + 1788.38871420371 * t);
-        Y0 += 0.00000049073 * Math.cos(2.58173317309 + 523.7844434238 * t);
-        Y0 += 0.00000038297 * Math.cos(4.36934356478 + 106.5179854398 * t);
-        Y0 += 0.00000041687 * Math.cos(2.49177765294 + 1059.5775635629 * t);
-        Y0 += 0.00000037366 * Math.cos(5.83924605505 + 2751.79141717511 * t);
-        Y0 += 0.00000041634 * Math.cos(0.09415541149 + 1478.62275658089 * t);
-        Y0 += 0.00000041532 * Math.cos(3.87601872923 + 1514.53511420 * t);
-        Y0 += 0.00000041308 * Math.cos(3.06772374924 + 10.538758222 * t);
-        Y0 += 0.00000040633 * Math.cos(4.90197995789 + 18.40306474821 * t);
-        Y0 += 0.00000042800 * Math.cos(1.68392525459 + 113.89465699899 * t);
-        Y0 += 0.00000048985 * Math.cos(4.63153291545 + 3340.8562441833 * t);
-        Y0 += 0.00000044449 * Math.cos(4.90238800208 + 536.08512173241 * t);
-        Y0 += 0.00000034928 * Math.cos(5.86589465436 + 672.3844327119 * t);
-        Y0 += 0.00000036386 * Math.cos(0.45310476388 + 1361.79052332771 * t);
-        Y0 += 0.00000036844 * Math.cos(3.31552381410 + 530.195415009 * t);
-        Y0 += 0.00000036844 * Math.cos(4.16675448786 + 529.6741501472 * t);
-        Y0 += 0.00000034444 * Math.cos(4.06056429191 + 1890.9938534553 * t);
-        Y0 += 0.00000041479 * Math.cos(0.20923373847 + 1593.2488660304 * t);
-        Y0 += 0.00000046613 * Math.cos(2.16989392147 + 1513.05064149171 * t);
-        Y0 += 0.00000032971 * Math.cos(2.27730952602 + 522.7730514675 * t);
-        Y0 += 0.00000035418 * Math.cos(5.49008702234 + 522.8694196871 * t);
-        Y0 += 0.00000032742 * Math.cos(4.25989553271 + 124.6772327045 * t);
-        Y0 += 0.00000034850 * Math.cos(2.92484630853 + 1060.5889555192 * t);
-        Y0 += 0.00000030476 * Math.cos(2.81533288955 + 1585.38455950421 * t);
-        Y0 += 0.00000029011 * Math.cos(5.89187559250 + 121.4958389668 * t);
-        Y0 += 0.00000033477 * Math.cos(1.40109397770 + 629.0954035336 * t);
-        Y0 += 0.00000028909 * Math.cos(5.57936571060 + 2001.68780964171 * t);
-        Y0 += 0.00000029909 * Math.cos(1.98839129392 + 537.0001454691 * t);
-        Y0 += 0.00000027497 * Math.cos(5.20349493393 + 537.09651368871 * t);
-        Y0 += 0.00000028353 * Math.cos(3.29566866990 + 2214.4992701127 * t);
-        Y0 += 0.00000027748 * Math.cos(2.64291022936 + 2420.68481854989 * t);
-        Y0 += 0.00000033057 * Math.cos(4.51374272746 + 568.0678182159 * t);
-        Y0 += 0.00000027675 * Math.cos(3.76752390296 + 528.6627581909 * t);
-        Y0 += 0.00000029521 * Math.cos(2.73723500563 + 1361.3028883607 * t);
-        Y0 += 0.00000027586 * Math.cos(3.71471356005 + 531.2068069653 * t);
-        Y0 += 0.00000033930 * Math.cos(4.63376695563 + 885.6835281499 * t);
-        Y0 += 0.00000027514 * Math.cos(1.45900145166 + 114.38229196601 * t);
-        Y0 += 0.00000024495 * Math.cos(4.07450770524 + 99.6675629974 * t);
-        Y0 += 0.00000024344 * Math.cos(3.20297940813 + 935.19233245171 * t);
-        Y0 += 0.00000026492 * Math.cos(3.14995415897 + 422.9098550964 * t);
-        Y0 += 0.00000030581 * Math.cos(0.04329676173 + 142.20583265029 * t);
-        Y0 += 0.00000032993 * Math.cos(5.35577320707 + 1058.66253982621 * t);
-        Y0 += 0.00000026693 * Math.cos(4.15534706030 + 747.1660312792 * t);
-        Y0 += 0.00000023218 * Math.cos(4.67611113291 + 216.9874312176 * t);
-        Y0 += 0.00000031446 * Math.cos(4.79362433774 + 437.8877086234 * t);
-        Y0 += 0.00000023990 * Math.cos(4.10871208553 + 523.3425004391 * t);
-        Y0 += 0.00000025905 * Math.cos(2.70346670886 + 10.8018827804 * t);
-        Y0 += 0.00000030584 * Math.cos(3.14037291034 + 1024.20102502061 * t);
-        Y0 += 0.00000022355 * Math.cos(6.15548689757 + 106.0303504728 * t);
-        Y0 += 0.00000027098 * Math.cos(5.64808334984 + 497.69145366371 * t);
-        Y0 += 0.00000029688 * Math.cos(5.93516522116 + 760.01171843649 * t);
-        Y0 += 0.00000026696 * Math.cos(1.62294414819 + 1158.78636862821 * t);
-        Y0 += 0.00000025786 * Math.cos(4.19746250367 + 636.95971005981 * t);
-        Y0 += 0.00000024825 * Math.cos(4.87212515778 + 1134.40734624 * t);
-        Y0 += 0.00000022840 * Math.cos(0.83434687851 + 459.0853372739 * t);
-        Y0 += 0.00000021870 * Math.cos(3.37410460471 + 536.52706471711 * t);
-        Y0 += 0.00000022257 * Math.cos(5.18257233161 + 521.8580277308 * t);
-        Y0 += 0.00000026904 * Math.cos(4.55348699023 + 299.37021175271 * t);
-        Y0 += 0.00000020168 * Math.cos(4.63789217577 + 2104.7805838603 * t);
-        Y0 += 0.00000019591 * Math.cos(2.60352149776 + 1603.5438067689 * t);
-        Y0 += 0.00000023983 * Math.cos(1.51490151538 + 2633.98391398789 * t);
-        Y0 += 0.00000023778 * Math.cos(1.81405059728 + 562.1781114925 * t);
-        Y0 += 0.00000019633 * Math.cos(2.55698413130 + 491.8017469403 * t);
-        Y0 += 0.00000026288 * Math.cos(6.09242729115 + 454.6655490438 * t);
-        Y0 += 0.00000021128 * Math.cos(5.07121999690 + 934.70469748469 * t);
-        Y0 += 0.00000019074 * Math.cos(0.54048693886 + 327.68138740401 * t);
-        Y0 += 0.00000018465 * Math.cos(3.58841586091 + 1464.3956625793 * t);
-        Y0 += 0.00000021220 * Math.cos(4.75365640451 + 495.9945326343 * t);
-        Y0 += 0.00000024986 * Math.cos(3.56749136042 + 860.55374623631 * t);
-        Y0 += 0.00000018596 * Math.cos(0.57894147959 + 5.872891776 * t);
-        Y0 += 0.00000024136 * Math.cos(0.56079031346 + 380.37158544351 * t);
-        Y0 += 0.00000018303 * Math.cos(3.05720710697 + 953.3515797164 * t);
-        Y0 += 0.00000024099 * Math.cos(2.66580382654 + 621.98185653281 * t);
-        Y0 += 0.00000019533 * Math.cos(0.33685720004 + 1098.9826235879 * t);
-        Y0 += 0.00000017623 * Math.cos(3.77983317632 + 2207.38572311189 * t);
-        Y0 += 0.00000018076 * Math.cos(0.42847308235 + 600.7842278823 * t);
-        Y0 += 0.00000017281 * Math.cos(4.85465411050 + 191.7146369521 * t);
-        Y0 += 0.00000017873 * Math.cos(2.29598676123 + 538.0115374254 * t);
-        Y0 += 0.00000017226 * Math.cos(2.68832441082 + 2435.3995475185 * t);
-        Y0 += 0.00000021244 * Math.cos(4.71917522298 + 1166.6506751544 * t);
-        Y0 += 0.00000020337 * Math.cos(5.96704683966 + 1795.0146262375 * t);
-        Y0 += 0.00000016743 * Math.cos(4.81175858246 + 2531.3787747363 * t);
-        Y0 += 0.00000019199 * Math.cos(2.72712183072 + 563.87503252191 * t);
-        Y0 += 0.00000016833 * Math.cos(2.43728533530 + 24.6228398717 * t);
-        Y0 += 0.00000021175 * Math.cos(0.27960745033 + 88.6218627335 * t);
-        Y0 += 0.00000016556 * Math.cos(2.28023588713 + 2229.2139990813 * t);
-        Y0 += 0.00000016153 * Math.cos(4.90017932817 + 1049.3308069342 * t);
-        Y0 += 0.00000019785 * Math.cos(5.64301732154 + 505.5557601899 * t);
-        Y0 += 0.00000018422 * Math.cos(2.18247642641 + 1969.4444807273 * t);
-        Y0 += 0.00000019816 * Math.cos(2.08941014873 + 96.2230447013 * t);
-        Y0 += 0.00000016272 * Math.cos(2.33706582122 + 527.22646959241 * t);
-        Y0 += 0.00000016170 * Math.cos(5.14508707196 + 532.64309556381 * t);
-        Y0 += 0.00000015510 * Math.cos(5.66925542318 + 988.7763023685 * t);
-        Y0 += 0.00000015594 * Math.cos(3.28617425582 + 39.6006933987 * t);
-        Y0 += 0.00000015853 * Math.cos(1.45510339077 + 501.62360692681 * t);
-        Y0 += 0.00000016153 * Math.cos(2.18239496410 + 31.9995114309 * t);
-        Y0 += 0.00000018509 * Math.cos(1.84602176090 + 554.31380496631 * t);
-        Y0 += 0.00000015127 * Math.cos(1.98189390748 + 460.7822583033 * t);
-        Y0 += 0.00000016461 * Math.cos(4.35420228107 + 220.16882495529 * t);
-        Y0 += 0.00000019878 * Math.cos(5.33036403802 + 1691.9218520189 * t);
-        Y0 += 0.00000014712 * Math.cos(3.84306627886 + 1059.10448281091 * t);
-        Y0 += 0.00000017901 * Math.cos(1.98272465699 + 107.2687449652 * t);
-        Y0 += 0.00000014484 * Math.cos(3.28758641825 + 1070.6714479366 * t);
-        Y0 += 0.00000015909 * Math.cos(0.96629585192 + 4.9096839295 * t);
-        Y0 += 0.00000014674 * Math.cos(6.01692843272 + 558.2459582294 * t);
-        Y0 += 0.00000014766 * Math.cos(3.88224084450 + 2744.6778701743 * t);
-        Y0 += 0.00000018715 * Math.cos(5.44782508771 + 523.71500745461 * t);
-        Y0 += 0.00000014896 * Math.cos(1.36370078487 + 1588.82907780029 * t);
-        Y0 += 0.00000017816 * Math.cos(3.79294770830 + 74.53778108379 * t);
-        Y0 += 0.00000014616 * Math.cos(3.00562662663 + 2530.8911397693 * t);
-        Y0 += 0.00000018292 * Math.cos(3.40569854290 + 1151.6728216274 * t);
-        Y0 += 0.00000018426 * Math.cos(2.03446098690 + 536.1545577016 * t);
-        Y0 += 0.00000013673 * Math.cos(0.68703780947 + 732.1881777522 * t);
-        Y0 += 0.00000013765 * Math.cos(6.04929617915 + 67.424234083 * t);
-        Y0 += 0.00000014986 * Math.cos(0.08205821916 + 2015.9149036433 * t);
-        Y0 += 0.00000013750 * Math.cos(0.52643748579 + 451.2210307477 * t);
-        Y0 += 0.00000013701 * Math.cos(5.78256715764 + 1586.13531902961 * t);
-        Y0 += 0.00000013415 * Math.cos(2.38228960626 + 2737.0766882065 * t);
-        Y0 += 0.00000013707 * Math.cos(2.03789341879 + 498.91529394111 * t);
-        Y0 += 0.00000013957 * Math.cos(2.36417098087 + 1592.498106505 * t);
-        Y0 += 0.00000012833 * Math.cos(0.65025343158 + 423.66061462181 * t);
-        Y0 += 0.00000012935 * Math.cos(5.50182673109 + 599.0873068529 * t);
-        Y0 += 0.00000013524 * Math.cos(3.44876736954 + 2655.8121899573 * t);
-        Y0 += 0.00000015347 * Math.cos(4.64705200559 + 323.2615991739 * t);
-        Y0 += 0.00000014250 * Math.cos(1.72247897628 + 462.2667310116 * t);
-        Y0 += 0.00000014314 * Math.cos(4.07018795871 + 1551.1836771295 * t);
-        Y0 += 0.00000016350 * Math.cos(3.38063086403 + 1290.19031849811 * t);
-        Y0 += 0.00000012174 * Math.cos(5.62306550613 + 2318.0796792983 * t);
-        Y0 += 0.00000014758 * Math.cos(5.80599958132 + 945.48727319021 * t);
-        Y0 += 0.00000013727 * Math.cos(4.06971719103 + 113.6315324406 * t);
-        Y0 += 0.00000012014 * Math.cos(1.59699399907 + 938.3737261894 * t);
-        Y0 += 0.00000012669 * Math.cos(5.59895980244 + 597.60283414461 * t);
-        Y0 += 0.00000012684 * Math.cos(5.44519522050 + 560.9542712151 * t);
-        Y0 += 0.00000012686 * Math.cos(1.24409527288 + 528.2378615487 * t);
-        Y0 += 0.00000012686 * Math.cos(6.23818302908 + 531.63170360751 * t);
-        Y0 += 0.00000011902 * Math.cos(0.29922284195 + 636.2089505344 * t);
-        Y0 += 0.00000015029 * Math.cos(6.08292509395 + 155.53915477459 * t);
-        Y0 += 0.00000014712 * Math.cos(4.33830015465 + 1060.1470125345 * t);
-        Y0 += 0.00000013153 * Math.cos(4.24131500267 + 34.1840674273 * t);
-        Y0 += 0.00000011492 * Math.cos(2.74650212454 + 0.719390363 * t);
-        Y0 += 0.00000011728 * Math.cos(0.66803059115 + 608.64853440851 * t);
-        Y0 += 0.00000014802 * Math.cos(2.91983201484 + 760.4993534035 * t);
-        Y0 += 0.00000014208 * Math.cos(4.97676580268 + 151.2914873264 * t);
-        Y0 += 0.00000013247 * Math.cos(4.74780140574 + 5.1728084879 * t);
-        Y0 += 0.00000013608 * Math.cos(5.75341457451 + 28.0673581678 * t);
-        Y0 += 0.00000011186 * Math.cos(1.14738473449 + 531.3710711766 * t);
-        Y0 += 0.00000011186 * Math.cos(0.05170826029 + 528.4984939796 * t);
-        Y0 += 0.00000014801 * Math.cos(1.71286185185 + 378.39947776819 * t);
-        Y0 += 0.00000011873 * Math.cos(2.54431600917 + 1677.6947580173 * t);
-        Y0 += 0.00000010898 * Math.cos(4.59375119105 + 629.846163059 * t);
-        Y0 += 0.00000014422 * Math.cos(2.69020416688 + 381.3684231848 * t);
-        Y0 += 0.00000010799 * Math.cos(5.38556202520 + 1148.49142788971 * t);
-        Y0 += 0.00000010862 * Math.cos(3.06906378219 + 248.9676355736 * t);
-        Y0 += 0.00000010584 * Math.cos(2.85396979697 + 430.02340209721 * t);
-        Y0 += 0.00000014240 * Math.cos(3.01342561614 + 1173.7642221552 * t);
-        Y0 += 0.00000010278 * Math.cos(4.70239533674 + 209.87388421679 * t);
-        Y0 += 0.00000011280 * Math.cos(3.91394243595 + 46.71424039951 * t);
-        Y0 += 0.00000010327 * Math.cos(5.95352479669 + 606.2008538537 * t);
-        Y0 += 0.00000013270 * Math.cos(2.80639524732 + 1041.466500408 * t);
-        Y0 += 0.00000013786 * Math.cos(2.98010668249 + 337.9763281425 * t);
-        Y0 += 0.00000010252 * Math.cos(5.63891846478 + 1891.4814884223 * t);
-        Y0 += 0.00000013304 * Math.cos(0.85030585719 + 63.49208081989 * t);
-        Y0 += 0.00000009721 * Math.cos(5.24565438793 + 1159.53712815361 * t);
-        Y0 += 0.00000009974 * Math.cos(3.07602930457 + 9.8050450391 * t);
-        Y0 += 0.00000010564 * Math.cos(4.77844769270 + 1251.0965671413 * t);
-        Y0 += 0.00000012937 * Math.cos(2.55201590769 + 944.7390057923 * t);
-        Y0 += 0.00000012666 * Math.cos(4.49628001198 + 721.8932370137 * t);
-        Y0 += 0.00000009141 * Math.cos(3.31988100263 + 1780.78753223589 * t);
-        Y0 += 0.00000009377 * Math.cos(3.52298776594 + 2523.7775927685 * t);
-        Y0 += 0.00000008992 * Math.cos(1.05072894634 + 1165.89991562901 * t);
-        Y0 += 0.00000009074 * Math.cos(2.27653272320 + 754.27957828001 * t);
-        Y0 += 0.00000008886 * Math.cos(0.87970824582 + 528.71094230071 * t);
-        Y0 += 0.00000008886 * Math.cos(0.31938474896 + 531.1586228555 * t);
-        Y0 += 0.00000008815 * Math.cos(0.50994270535 + 302.40859313851 * t);
-        Y0 += 0.00000012114 * Math.cos(3.28137353918 + 1020.2688717575 * t);
-        Y0 += 0.00000008872 * Math.cos(3.19935594712 + 194.89603068979 * t);
-        Y0 += 0.00000010983 * Math.cos(0.29488310355 + 1.24065522479 * t);
-        Y0 += 0.00000012190 * Math.cos(4.57593024424 + 72.31710306511 * t);
-        Y0 += 0.00000008635 * Math.cos(4.87675285165 + 1056.7049863659 * t);
-        Y0 += 0.00000010308 * Math.cos(1.29678542884 + 2950.3757836445 * t);
-        Y0 += 0.00000011595 * Math.cos(3.43106394734 + 1289.7026835311 * t);
-        Y0 += 0.00000008931 * Math.cos(1.99292771548 + 956.04533848709 * t);
-        Y0 += 0.00000010790 * Math.cos(2.13326549126 + 529.0410107008 * t);
-        Y0 += 0.00000010790 * Math.cos(5.34901281070 + 530.8285544554 * t);
-        Y0 += 0.00000008192 * Math.cos(5.36020095318 + 13.9832765181 * t);
-        Y0 += 0.00000007989 * Math.cos(2.25562114310 + 1058.87498814731 * t);
-        Y0 += 0.00000010336 * Math.cos(1.83209374906 + 73.5409433425 * t);
-        Y0 += 0.00000008394 * Math.cos(1.01712525126 + 525.7901809939 * t);
-        Y0 += 0.00000010766 * Math.cos(5.53480384660 + 2111.40649589409 * t);
-        Y0 += 0.00000007749 * Math.cos(0.18520854013 + 522.0704760519 * t);
-        Y0 += 0.00000008309 * Math.cos(0.18252654751 + 534.0793841623 * t);
-        Y0 += 0.00000010415 * Math.cos(3.01801395976 + 319.8170808778 * t);
-        Y0 += 0.00000009365 * Math.cos(0.13738783165 + 415.3086731286 * t);
-        Y0 += 0.00000007601 * Math.cos(1.01410942526 + 537.7990891043 * t);
-        Y0 += 0.00000008635 * Math.cos(3.30118117017 + 1062.5465089795 * t);
-        Y0 += 0.00000007859 * Math.cos(5.09973255259 + 1065.0423736441 * t);
-        Y0 += 0.00000007602 * Math.cos(5.07538034057 + 1063.8185333667 * t);
-        Y0 += 0.00000010315 * Math.cos(1.81132365985 + 456.6376567191 * t);
-        Y0 += 0.00000007989 * Math.cos(5.92574529041 + 1060.3765071981 * t);
-        Y0 += 0.00000008083 * Math.cos(3.25152658141 + 533.37930087419 * t);
-        Y0 += 0.00000007529 * Math.cos(2.72685691181 + 2847.28300942589 * t);
-        Y0 += 0.00000008490 * Math.cos(1.21946880524 + 202.0095776906 * t);
-        Y0 += 0.00000007329 * Math.cos(3.75411316314 + 148.32254190981 * t);
-        Y0 += 0.00000007187 * Math.cos(5.83227131060 + 30.7756711535 * t);
-        Y0 += 0.00000009756 * Math.cos(5.09705846628 + 2008.3137216755 * t);
-        Y0 += 0.00000008727 * Math.cos(1.02210873113 + 1202.0753978065 * t);
-        Y0 += 0.00000007941 * Math.cos(1.93425844896 + 2332.3067732999 * t);
-        Y0 += 0.00000006801 * Math.cos(1.23043017312 + 1054.9598812267 * t);
-        Y0 += 0.00000008387 * Math.cos(4.41387774831 + 2957.9769656123 * t);
-        Y0 += 0.00000007512 * Math.cos(5.35620649098 + 952.60082019101 * t);
-        Y0 += 0.00000007552 * Math.cos(4.91464670813 + 842.3944989716 * t);
-        Y0 += 0.00000007680 * Math.cos(4.58781712019 + 334.7949344048 * t);
-        Y0 += 0.00000009231 * Math.cos(5.41598830183 + 2854.8841913937 * t);
-        Y0 += 0.00000008791 * Math.cos(5.81348495155 + 483.4643596621 * t);
-        Y0 += 0.00000007389 * Math.cos(0.72681677735 + 202.4972126576 * t);
-        Y0 += 0.00000006847 * Math.cos(0.68329056266 + 320.5678404032 * t);
-        Y0 += 0.00000008929 * Math.cos(5.67328579883 + 603.23190843711 * t);
-        Y0 += 0.00000006520 * Math.cos(2.12029864826 + 3053.46855786309 * t);
-        Y0 += 0.00000006721 * Math.cos(5.17441034834 + 1912.8221294247 * t);
-        Y0 += 0.00000008859 * Math.cos(2.25656725982 + 217.4750661846 * t);
-        Y0 += 0.00000008710 * Math.cos(1.69360357974 + 576.4052054941 * t);
-        Y0 += 0.00000007535 * Math.cos(1.43209684879 + 1061.110220381 * t);
-        Y0 += 0.00000006826 * Math.cos(0.61078031935 + 284.39235822571 * t);
-        Y0 += 0.00000006401 * Math.cos(6.21089623686 + 117.0760507367 * t);
-        Y0 += 0.00000006884 * Math.cos(3.68154907894 + 277.2788112249 * t);
-        Y0 += 0.00000006632 * Math.cos(1.40967759841 + 2.9375762542 * t);
-        Y0 += 0.00000007529 * Math.cos(3.26594046441 + 423.17297965479 * t);
-        Y0 += 0.00000006885 * Math.cos(3.41541733477 + 946.23803271561 * t);
-        Y0 += 0.00000006200 * Math.cos(1.01085916847 + 1272.4372081437 * t);
-        Y0 += 0.00000006730 * Math.cos(0.63714531653 + 531.5793139808 * t);
-        Y0 += 0.00000006730 * Math.cos(0.56194767825 + 528.29025117541 * t);
-        Y0 += 0.00000006259 * Math.cos(4.17880072433 + 142.6934676173 * t);
-        Y0 += 0.00000007602 * Math.cos(3.10155768831 + 1055.43296197871 * t);
-        Y0 += 0.00000007329 * Math.cos(1.34623356610 + 5.97595764 * t);
-        Y0 += 0.00000005901 * Math.cos(5.92152237589 + 1251.5842021083 * t);
-        Y0 += 0.00000006013 * Math.cos(5.10743465878 + 1035.24672528451 * t);
-        Y0 += 0.00000005953 * Math.cos(2.93486163481 + 498.4422131891 * t);
-        Y0 += 0.00000007833 * Math.cos(5.94245831651 + 68.90870679129 * t);
-        Y0 += 0.00000006343 * Math.cos(1.17088877750 + 199.3158189199 * t);
-        Y0 += 0.00000005843 * Math.cos(5.61675953661 + 1276.85699637381 * t);
-        Y0 += 0.00000007666 * Math.cos(3.22002799193 + 247.4831628653 * t);
-        Y0 += 0.00000005663 * Math.cos(3.16164223175 + 1091.86907658711 * t);
-        Y0 += 0.00000005605 * Math.cos(1.26367531224 + 513.4724563428 * t);
-        Y0 += 0.00000005524 * Math.cos(4.60275692299 + 2847.77064439291 * t);
-        Y0 += 0.00000007612 * Math.cos(4.10551473719 + 352.06040979221 * t);
-        Y0 += 0.00000005914 * Math.cos(3.68583540418 + 1054.20912170131 * t);
-        Y0 += 0.00000007627 * Math.cos(0.07913853996 + 405.5013673571 * t);
-        Y0 += 0.00000005507 * Math.cos(4.54723285635 + 561.4273519671 * t);
-        Y0 += 0.00000005497 * Math.cos(4.40642501831 + 810.90192958261 * t);
-        Y0 += 0.00000005666 * Math.cos(6.05825689215 + 1064.29161411871 * t);
-        Y0 += 0.00000005378 * Math.cos(6.21860298014 + 546.39710881341 * t);
-        Y0 += 0.00000006319 * Math.cos(3.19557491036 + 1493.3374855495 * t);
-        Y0 += 0.00000006876 * Math.cos(1.94945842378 + 408.19512612779 * t);
-        Y0 += 0.00000005745 * Math.cos(1.20632367499 + 430.2865266556 * t);
-        Y0 += 0.00000006791 * Math.cos(5.62982891906 + 303.6178792009 * t);
-        Y0 += 0.00000007093 * Math.cos(4.40070510881 + 740.0524842784 * t);
-        Y0 += 0.00000006815 * Math.cos(1.54708468197 + 1053.9966733802 * t);
-        Y0 += 0.00000005111 * Math.cos(2.62007621305 + 1176.9456158929 * t);
-        Y0 += 0.00000005065 * Math.cos(2.54426472948 + 1059.4656889783 * t);
-        Y0 += 0.00000006697 * Math.cos(3.57793403810 + 685.2301198692 * t);
-        Y0 += 0.00000005674 * Math.cos(4.57629153060 + 1567.48843679789 * t);
-        Y0 += 0.00000005759 * Math.cos(4.23445817390 + 166.58485503849 * t);
-        Y0 += 0.00000004933 * Math.cos(1.00231605898 + 245.2986068689 * t);
-        Y0 += 0.00000005446 * Math.cos(1.85472048115 + 757.4609720177 * t);
-        Y0 += 0.00000005053 * Math.cos(0.08352218214 + 1678.1823929843 * t);
-        Y0 += 0.00000005999 * Math.cos(2.52195451833 + 908.57807782981 * t);
-        Y0 += 0.00000005382 * Math.cos(2.05458907199 + 512.66930719071 * t);
-        Y0 += 0.00000004943 * Math.cos(3.25188141823 + 2840.1694624251 * t);
-        Y0 += 0.00000005065 * Math.cos(5.63710170403 + 1059.7858063671 * t);
-        Y0 += 0.00000005075 * Math.cos(4.81676406685 + 508.10650660869 * t);
-        Y0 += 0.00000004955 * Math.cos(1.84826604162 + 1069.92068841121 * t);
-        Y0 += 0.00000005153 * Math.cos(5.42768922381 + 547.2002579655 * t);
-        Y0 += 0.00000004607 * Math.cos(5.26442210740 + 2634.47154895491 * t);
-        Y0 += 0.00000004755 * Math.cos(4.04041807467 + 415.04804069769 * t);
-        Y0 += 0.00000004775 * Math.cos(2.39668916090 + 1994.08662767389 * t);
-        Y0 += 0.00000004590 * Math.cos(3.05724325625 + 2097.1794018925 * t);
-        Y0 += 0.00000004911 * Math.cos(6.22970806427 + 512.5262948388 * t);
-        Y0 += 0.00000004553 * Math.cos(1.47995846767 + 509.487913453 * t);
-        Y0 += 0.00000004672 * Math.cos(2.03709808328 + 234.8835539239 * t);
-        Y0 += 0.00000004578 * Math.cos(5.57782400113 + 305.5899868762 * t);
-        Y0 += 0.00000005193 * Math.cos(5.59541519165 + 320.0802054362 * t);
-        Y0 += 0.00000006202 * Math.cos(2.81584993974 + 26088.1469590577 * t);
-        Y0 += 0.00000005852 * Math.cos(5.17781036835 + 2427.7983655507 * t);
-        Y0 += 0.00000004324 * Math.cos(6.00231982961 + 550.3816517032 * t);
-        Y0 += 0.00000004410 * Math.cos(0.89841714751 + 1127.2937992392 * t);
-        Y0 += 0.00000004238 * Math.cos(1.37716518074 + 92.2908914382 * t);
-        Y0 += 0.00000004881 * Math.cos(2.90321352590 + 725.0746307514 * t);
-        Y0 += 0.00000004688 * Math.cos(5.54226574385 + 504.8050006645 * t);
-        Y0 += 0.00000004432 * Math.cos(3.21149906214 + 1490.15609181181 * t);
-        Y0 += 0.00000004144 * Math.cos(1.71460956771 + 970.7600674557 * t);
-        Y0 += 0.00000005737 * Math.cos(3.37724812325 + 707.809155364 * t);
-        Y0 += 0.00000004256 * Math.cos(2.95543164571 + 512.4086747598 * t);
-        Y0 += 0.00000004139 * Math.cos(5.15386793268 + 470.1310375378 * t);
-        Y0 += 0.00000004547 * Math.cos(0.52585543495 + 857.3723524986 * t);
-        Y0 += 0.00000004431 * Math.cos(4.63632908961 + 519.9004742705 * t);
-        Y0 += 0.00000005723 * Math.cos(5.51760124056 + 1065.2548219652 * t);
-        Y0 += 0.00000004278 * Math.cos(0.51107431683 + 739.30172475301 * t);
-        Y0 += 0.00000005621 * Math.cos(4.76211011081 + 280.723329521 * t);
-        Y0 += 0.00000005007 * Math.cos(4.52013629124 + 492.06237937121 * t);
-        Y0 += 0.00000003987 * Math.cos(1.06371097161 + 448.1826493619 * t);
-        Y0 += 0.00000004559 * Math.cos(1.08649118563 + 3266.76765330109 * t);
-        Y0 += 0.00000004072 * Math.cos(3.65895344457 + 3061.06973983091 * t);
-        Y0 += 0.00000004072 * Math.cos(4.52684665530 + 547.4608903964 * t);
-        Y0 += 0.00000005087 * Math.cos(3.27441637503 + 114.6429243969 * t);
-        Y0 += 0.00000004392 * Math.cos(1.93950112163 + 555.0645644917 * t);
-        Y0 += 0.00000004733 * Math.cos(0.67137979921 + 1087.936923324 * t);
-        Y0 += 0.00000004590 * Math.cos(0.81771313519 + 209.12312469139 * t);
-        Y0 += 0.00000004061 * Math.cos(0.84886600079 + 1578.2710125034 * t);
-        Y0 += 0.00000004043 * Math.cos(3.31066824827 + 917.1760975389 * t);
-        Y0 += 0.00000004781 * Math.cos(0.95570708773 + 355.99256305531 * t);
-        Y0 += 0.00000003840 * Math.cos(0.34108693081 + 479.532206399 * t);
-        Y0 += 0.00000004229 * Math.cos(5.02030190341 + 202.760337216 * t);
-        Y0 += 0.00000005079 * Math.cos(4.10108252940 + 100.4012761803 * t);
-        Y0 += 0.00000003809 * Math.cos(5.04402768610 + 63.9797157869 * t);
-        Y0 += 0.00000003869 * Math.cos(2.47318190725 + 3163.6748790825 * t);
-        Y0 += 0.00000004615 * Math.cos(3.86069192120 + 8.32057233081 * t);
-        Y0 += 0.00000004615 * Math.cos(0.71909926761 + 7.83293736379 * t);
-        Y0 += 0.00000004628 * Math.cos(2.95946199977 + 567.807185785 * t);
-        Y0 += 0.00000004429 * Math.cos(3.33484643205 + 1025.6854977289 * t);
-        Y0 += 0.00000004166 * Math.cos(1.09654835252 + 1587.832240059 * t);
-        Y0 += 0.00000004232 * Math.cos(2.53213396378 + 2042.7416065863 * t);
-        Y0 += 0.00000003934 * Math.cos(3.61075823093 + 1894.66288216001 * t);
-        Y0 += 0.00000004119 * Math.cos(3.84993499525 + 782.59075393131 * t);
-        Y0 += 0.00000004305 * Math.cos(2.47219780188 + 237.9219353097 * t);
-        Y0 += 0.00000004647 * Math.cos(5.82365364657 + 294.80741117069 * t);
-        Y0 += 0.00000003571 * Math.cos(2.08868123477 + 1080.9663886751 * t);
-        Y0 += 0.00000003908 * Math.cos(0.59904528751 + 775.4772069305 * t);
-        Y0 += 0.00000004183 * Math.cos(5.36832575933 + 3171.2760610503 * t);
-        Y0 += 0.00000003544 * Math.cos(4.38396042060 + 849.5080459724 * t);
-        Y0 += 0.00000004668 * Math.cos(0.56754531710 + 391.4172857074 * t);
-        Y0 += 0.00000003825 * Math.cos(3.58651228704 + 1013.1553247567 * t);
-        Y0 += 0.00000004490 * Math.cos(4.47294860578 + 1066.2516597065 * t);
-        Y0 += 0.00000003497 * Math.cos(2.80136092523 + 1059.83819599381 * t);
-        Y0 += 0.00000004592 * Math.cos(6.18306867454 + 105.2966372899 * t);
-        Y0 += 0.00000003507 * Math.cos(2.32963957274 + 589.7385276184 * t);
-        Y0 += 0.00000003460 * Math.cos(3.00015782763 + 210.36151918381 * t);
-        Y0 += 0.00000003472 * Math.cos(0.85727261261 + 580.33735875721 * t);
-        Y0 += 0.00000004742 * Math.cos(1.07044014702 + 1214.92108496379 * t);
-        Y0 += 0.00000004236 * Math.cos(6.09342108227 + 458.5977023069 * t);
-        Y0 += 0.00000004571 * Math.cos(4.85712461466 + 2324.70559133209 * t);
-        Y0 += 0.00000003680 * Math.cos(1.21278522879 + 547.34327031741 * t);
-        Y0 += 0.00000003342 * Math.cos(0.15031101728 + 611.6869157943 * t);
-        Y0 += 0.00000003327 * Math.cos(3.80363745236 + 416.059432654 * t);
-        Y0 += 0.00000003357 * Math.cos(3.57120537469 + 102.8971408449 * t);
-        Y0 += 0.00000003597 * Math.cos(0.70360923125 + 81.50831573269 * t);
-        Y0 += 0.00000003697 * Math.cos(2.78415450903 + 326.9306278786 * t);
-        Y0 += 0.00000003305 * Math.cos(5.62616411694 + 3068.1832868317 * t);
-        Y0 += 0.00000003332 * Math.cos(0.38986283721 + 102.8007726253 * t);
-        Y0 += 0.00000003850 * Math.cos(3.22603061160 + 223.1041404771 * t);
-        Y0 += 0.00000003389 * Math.cos(4.40791637427 + 1050.0645201171 * t);
-        Y0 += 0.00000003693 * Math.cos(2.30849108411 + 100.8889111473 * t);
-        Y0 += 0.00000003520 * Math.cos(5.90372622394 + 355.50492808829 * t);
-        Y0 += 0.00000003747 * Math.cos(3.26414742353 + 101.88574888859 * t);
-        Y0 += 0.00000003497 * Math.cos(5.38000550828 + 1059.4132993516 * t);
-        Y0 += 0.00000004041 * Math.cos(3.71442466403 + 80.7575562073 * t);
-        Y0 += 0.00000003215 * Math.cos(5.24772956727 + 2207.8733580789 * t);
-        Y0 += 0.00000003350 * Math.cos(3.76399871254 + 1077.7849949374 * t);
-        Y0 += 0.00000003628 * Math.cos(4.56818292330 + 1567.9760717649 * t);
-        Y0 += 0.00000004303 * Math.cos(0.65966587333 + 374.15181032 * t);
-        Y0 += 0.00000003455 * Math.cos(3.42091235598 + 489.0934339546 * t);
-        Y0 += 0.00000004402 * Math.cos(2.90784212539 + 987.55246209111 * t);
-        Y0 += 0.00000003638 * Math.cos(0.71407157961 + 103.81216458159 * t);
-        Y0 += 0.00000003112 * Math.cos(5.91930979689 + 422.42222012939 * t);
-        Y0 += 0.00000003124 * Math.cos(1.89592603599 + 3369.8604275197 * t);
-        Y0 += 0.00000003303 * Math.cos(2.85125218700 + 539.96909088571 * t);
-        Y0 += 0.00000003803 * Math.cos(3.64352844828 + 852.9525642685 * t);
-        Y0 += 0.00000003982 * Math.cos(5.66129151662 + 986.3286218137 * t);
-        Y0 += 0.00000003666 * Math.cos(1.43198782274 + 77.9943614674 * t);
-        Y0 += 0.00000004012 * Math.cos(0.62727446399 + 668.4522794488 * t);
-        Y0 += 0.00000003922 * Math.cos(0.99606286392 + 1215.4087199308 * t);
-        Y0 += 0.00000003967 * Math.cos(1.33281131206 + 486.64575339981 * t);
-        Y0 += 0.00000003197 * Math.cos(3.65023662550 + 1169.34443392509 * t);
-        Y0 += 0.00000003122 * Math.cos(3.82899115941 + 69.3963417583 * t);
-        Y0 += 0.00000003954 * Math.cos(2.04035652666 + 1123.3616459761 * t);
-        Y0 += 0.00000003201 * Math.cos(2.09572762487 + 145.874861355 * t);
-        Y0 += 0.00000003935 * Math.cos(3.38057342433 + 306.58682461749 * t);
-        Y0 += 0.00000002958 * Math.cos(3.08516031897 + 531.9405201482 * t);
-        Y0 += 0.00000002958 * Math.cos(4.39711798299 + 527.929045008 * t);
-        Y0 += 0.00000003054 * Math.cos(0.64525087742 + 654.3681977991 * t);
-        Y0 += 0.00000002909 * Math.cos(4.40702607221 + 536.9364549943 * t);
-        Y0 += 0.00000002909 * Math.cos(3.07525222975 + 522.9331101619 * t);
-        Y0 += 0.00000003738 * Math.cos(3.63891493774 + 977.7306021046 * t);
-        Y0 += 0.00000003893 * Math.cos(4.26177377165 + 812.3864022909 * t);
-        Y0 += 0.00000003604 * Math.cos(0.46524982149 + 78.4699343469 * t);
-        Y0 += 0.00000002867 * Math.cos(5.79071320564 + 1269.743449373 * t);
-        Y0 += 0.00000003118 * Math.cos(4.06136594960 + 570.7761312016 * t);
-        Y0 += 0.00000003676 * Math.cos(1.06915971991 + 226.07308589371 * t);
-        Y0 += 0.00000003463 * Math.cos(2.60208545891 + 1591.76439332211 * t);
-        Y0 += 0.00000002870 * Math.cos(0.26308381178 + 1586.8690322125 * t);
-        Y0 += 0.00000002889 * Math.cos(4.31193778169 + 504.66198831261 * t);
-        Y0 += 0.00000003107 * Math.cos(0.25809701396 + 1905.2209474569 * t);
-        Y0 += 0.00000002833 * Math.cos(3.77574980636 + 911.5470232464 * t);
-        Y0 += 0.00000003315 * Math.cos(2.51210337945 + 1065.84552279621 * t);
-        Y0 += 0.00000003556 * Math.cos(6.14962768045 + 573.2238117564 * t);
-        Y0 += 0.00000002918 * Math.cos(5.73628341762 + 967.57867371801 * t);
-        Y0 += 0.00000002676 * Math.cos(0.03275249694 + 3281.4823822697 * t);
-        Y0 += 0.00000003689 * Math.cos(1.70487674721 + 850.25880549781 * t);
-        Y0 += 0.00000003016 * Math.cos(4.27158737525 + 3274.36883526891 * t);
-        Y0 += 0.00000003204 * Math.cos(4.77926383698 + 2744.1902352073 * t);
-        Y0 += 0.00000002667 * Math.cos(5.49050260804 + 97.9199657307 * t);
-        Y0 += 0.00000002647 * Math.cos(0.88177591711 + 134.8291610911 * t);
-        Y0 += 0.00000002715 * Math.cos(3.16963522250 + 555.2075768436 * t);
-        Y0 += 0.00000003135 * Math.cos(3.15988503239 + 433.46792039329 * t);
-        Y0 += 0.00000002639 * Math.cos(2.26104148377 + 144.39038864671 * t);
-        Y0 += 0.00000002912 * Math.cos(4.27421635124 + 1883.8803064545 * t);
-        Y0 += 0.00000003601 * Math.cos(0.47145843816 + 991.9576961062 * t);
-        Y0 += 0.00000002745 * Math.cos(0.40065346771 + 33.6964324603 * t);
-        Y0 += 0.00000002589 * Math.cos(0.44277003092 + 93.28772917949 * t);
-        Y0 += 0.00000002531 * Math.cos(1.95807014850 + 108.0024581481 * t);
-        Y0 += 0.00000002821 * Math.cos(1.06656582689 + 503.1080796351 * t);
-        Y0 += 0.00000002585 * Math.cos(2.99923552183 + 3156.5613320817 * t);
-        Y0 += 0.00000003142 * Math.cos(5.99895869762 + 520.37355502251 * t);
-        Y0 += 0.00000003142 * Math.cos(4.62490556976 + 539.4960101337 * t);
-        Y0 += 0.00000002731 * Math.cos(2.80890465706 + 537.16020416351 * t);
-        Y0 += 0.00000002731 * Math.cos(4.67337364490 + 522.7093609927 * t);
-        Y0 += 0.00000003288 * Math.cos(0.54732144888 + 685.7177548362 * t);
-        Y0 += 0.00000002456 * Math.cos(1.47279271371 + 1074.6036011997 * t);
-        Y0 += 0.00000002382 * Math.cos(3.93679555128 + 112.8978192577 * t);
-        Y0 += 0.00000002385 * Math.cos(0.89159302945 + 1475.1782382848 * t);
-        Y0 += 0.00000002456 * Math.cos(0.42538841262 + 1044.6478941457 * t);
-        Y0 += 0.00000002435 * Math.cos(5.46783161031 + 824.9860112323 * t);
-        Y0 += 0.00000002637 * Math.cos(0.13252276208 + 556.7614855211 * t);
-        Y0 += 0.00000003031 * Math.cos(4.10608213511 + 538.5328022872 * t);
-        Y0 += 0.00000003031 * Math.cos(3.37619616684 + 521.33676286901 * t);
-        Y0 += 0.00000002342 * Math.cos(1.63307892366 + 518.40144734719 * t);
-        Y0 += 0.00000002443 * Math.cos(2.60924692115 + 749.8597900499 * t);
-        Y0 += 0.00000003226 * Math.cos(2.87915335731 + 536.8358812578 * t);
-        Y0 += 0.00000003226 * Math.cos(4.60312494465 + 523.0336838984 * t);
-        Y0 += 0.00000002356 * Math.cos(3.28453581204 + 285.61619850311 * t);
-        Y0 += 0.00000002452 * Math.cos(0.62027944096 + 1090.6452363097 * t);
-        Y0 += 0.00000002986 * Math.cos(6.19494169694 + 491.3141119733 * t);
-        Y0 += 0.00000002323 * Math.cos(4.87403397794 + 530.56792202451 * t);
-        Y0 += 0.00000002323 * Math.cos(2.60824432402 + 529.3016431317 * t);
-        Y0 += 0.00000003003 * Math.cos(1.51547464417 + 108.96566599461 * t);
-        Y0 += 0.00000003049 * Math.cos(2.91433771038 + 1438.2690429244 * t);
-        Y0 += 0.00000003159 * Math.cos(5.47330952290 + 457.8614969965 * t);
-        Y0 += 0.00000003023 * Math.cos(6.11184318218 + 532.9037279947 * t);
-        Y0 += 0.00000003023 * Math.cos(1.37043511978 + 526.96583716151 * t);
-        Y0 += 0.00000002581 * Math.cos(4.04501510183 + 1483.042544811 * t);
-        Y0 += 0.00000002851 * Math.cos(6.19876101268 + 731.70054278519 * t);
-        Y0 += 0.00000002627 * Math.cos(2.23895869315 + 1095.0504703248 * t);
-        Y0 += 0.00000002198 * Math.cos(2.83199855971 + 2413.5712715491 * t);
-        Y0 += 0.00000002533 * Math.cos(0.10403644084 + 12566.3955174663 * t);
-        Y0 += 0.00000002183 * Math.cos(4.47686604255 + 2421.1724535169 * t);
-        Y0 += 0.00000002273 * Math.cos(6.03923806707 + 1589.3648968771 * t);
-        Y0 += 0.00000002201 * Math.cos(4.15470899026 + 2044.2260792946 * t);
-        Y0 += 0.00000002304 * Math.cos(2.84269200130 + 1053.47540851841 * t);
-        Y0 += 0.00000002878 * Math.cos(1.28856851089 + 28.5549931348 * t);
-        Y0 += 0.00000002523 * Math.cos(1.46775781223 + 909.5749155711 * t);
-        Y0 += 0.00000002847 * Math.cos(3.89864676802 + 1441.237988341 * t);
-        Y0 += 0.00000002211 * Math.cos(5.00686455045 + 376.4394321804 * t);
-        Y0 += 0.00000002767 * Math.cos(5.82488714403 + 39.86132582961 * t);
-        Y0 += 0.00000002242 * Math.cos(4.98350060741 + 6681.46867088311 * t);
-        Y0 += 0.00000002284 * Math.cos(1.57111216540 + 902.94900353731 * t);
-        Y0 += 0.00000002122 * Math.cos(4.38960996491 + 543.6742416127 * t);
-        Y0 += 0.00000002251 * Math.cos(2.16205964084 + 1067.70250252 * t);
-        Y0 += 0.00000002782 * Math.cos(5.20069642737 + 451.69660362719 * t);
-        Y0 += 0.00000002107 * Math.cos(4.35933463496 + 824.4983762653 * t);
-        Y0 += 0.00000002308 * Math.cos(4.70844962325 + 732.93893727761 * t);
-        Y0 += 0.00000002055 * Math.cos(5.91536534525 + 526.2657538734 * t);
-        Y0 += 0.00000002624 * Math.cos(2.11125071189 + 1261.8791428468 * t);
-        Y0 += 0.00000002059 * Math.cos(4.36499566626 + 1254.765595846 * t);
-        Y0 += 0.00000002523 * Math.cos(0.74912600326 + 372.77040347569 * t);
-        Y0 += 0.00000002035 * Math.cos(3.63513892304 + 535.7763051917 * t);
-        Y0 += 0.00000002035 * Math.cos(3.84713937892 + 524.09325996451 * t);
-        Y0 += 0.00000002005 * Math.cos(2.40063053691 + 843.145258497 * t);
-        Y0 += 0.00000002366 * Math.cos(1.24399407734 + 3708.0805731457 * t);
-        Y0 += 0.00000001959 * Math.cos(0.76199223049 + 163.1403367424 * t);
-        Y0 += 0.00000002451 * Math.cos(2.98565323941 + 739.5648493114 * t);
-        Y0 += 0.00000002474 * Math.cos(0.77300859930 + 2122.93983112501 * t);
-        Y0 += 0.00000001935 * Math.cos(4.38042537965 + 3164.1625140495 * t);
-        Y0 += 0.00000002548 * Math.cos(0.72951803247 + 1128.7782719475 * t);
-        Y0 += 0.00000002140 * Math.cos(3.75230805584 + 408.68276109481 * t);
-        Y0 += 0.00000002089 * Math.cos(5.41923470052 + 60.04756252381 * t);
-        Y0 += 0.00000002555 * Math.cos(1.04261904815 + 231.8052260502 * t);
-        Y0 += 0.00000002289 * Math.cos(2.53062848354 + 429.28968891431 * t);
-        Y0 += 0.00000002652 * Math.cos(4.81114494152 + 405.0137323901 * t);
-        Y0 += 0.00000002044 * Math.cos(4.84208091423 + 241.3664536058 * t);
-        Y0 += 0.00000001959 * Math.cos(2.21322194743 + 3480.06674873909 * t);
-        Y0 += 0.00000001890 * Math.cos(6.01613452327 + 501.4805945749 * t);
-        Y0 += 0.00000002361 * Math.cos(1.03417291975 + 1819.8812835927 * t);
-        Y0 += 0.00000002290 * Math.cos(3.64742542679 + 386.9974974773 * t);
-        Y0 += 0.00000001839 * Math.cos(3.04284528593 + 511.2879003464 * t);
-        Y0 += 0.00000001873 * Math.cos(0.59051569111 + 1209.18894480731 * t);
-        Y0 += 0.00000001837 * Math.cos(4.84296500864 + 111.4133465494 * t);
-        Y0 += 0.00000002510 * Math.cos(1.99461282730 + 602.00806815971 * t);
-        Y0 += 0.00000002186 * Math.cos(3.48581623798 + 1553.8919901152 * t);
-        Y0 += 0.00000001875 * Math.cos(3.39330212644 + 1590.2799206138 * t);
-        Y0 += 0.00000002325 * Math.cos(1.42158890974 + 488.8809856335 * t);
-        Y0 += 0.00000001960 * Math.cos(1.10678196058 + 109.48693085641 * t);
-        Y0 += 0.00000002511 * Math.cos(6.05202626734 + 167.07249000551 * t);
-        Y0 += 0.00000002012 * Math.cos(0.85932602524 + 3583.1595229577 * t);
-        Y0 += 0.00000002198 * Math.cos(4.38757351366 + 297.9888049084 * t);
-        Y0 += 0.00000002129 * Math.cos(5.01247506157 + 821.94762984651 * t);
-        Y0 += 0.00000002219 * Math.cos(4.67528803846 + 2641.0974609887 * t);
-        Y0 += 0.00000001954 * Math.cos(5.49745211708 + 1415.3744932445 * t);
-        Y0 += 0.00000001787 * Math.cos(3.66506787987 + 1059.88638010361 * t);
-        Y0 += 0.00000001933 * Math.cos(2.03855165852 + 1688.4773337228 * t);
-        Y0 += 0.00000002173 * Math.cos(5.25212332069 + 1065.776086827 * t);
-        Y0 += 0.00000002273 * Math.cos(2.84142693944 + 1589.26852865751 * t);
-        Y0 += 0.00000002311 * Math.cos(4.82462753962 + 36.892380413 * t);
-        Y0 += 0.00000002005 * Math.cos(1.05923309333 + 746.67839631219 * t);
-        Y0 += 0.00000001716 * Math.cos(2.65554696835 + 504.0712874816 * t);
-        Y0 += 0.00000001970 * Math.cos(2.68003788885 + 363.1061100561 * t);
-        Y0 += 0.00000001879 * Math.cos(6.24564932571 + 1994.5742626409 * t);
-        Y0 += 0.00000001715 * Math.cos(5.11493591992 + 2950.8634186115 * t);
-        Y0 += 0.00000001859 * Math.cos(0.05233968738 + 2221.6128171135 * t);
-        Y0 += 0.00000001760 * Math.cos(4.24064604671 + 1051.5489928254 * t);
-        Y0 += 0.00000001679 * Math.cos(2.30938727968 + 2310.4784973305 * t);
-        Y0 += 0.00000002127 * Math.cos(4.22476224615 + 945.22664075931 * t);
-        Y0 += 0.00000001827 * Math.cos(1.41025945774 + 110.49832281271 * t);
-        Y0 += 0.00000001954 * Math.cos(4.77927442918 + 1446.8670626335 * t);
-        Y0 += 0.00000002077 * Math.cos(1.69841550605 + 724.5869957844 * t);
-        Y0 += 0.00000002096 * Math.cos(6.06068383411 + 570.98857952271 * t);
-        Y0 += 0.00000001615 * Math.cos(5.64607488965 + 1052.5603847817 * t);
-        Y0 += 0.00000001608 * Math.cos(4.82673133397 + 555.7982776746 * t);
-        Y0 += 0.00000001681 * Math.cos(3.99691992442 + 516.4414017594 * t);
-        Y0 += 0.00000001681 * Math.cos(3.48535837754 + 543.4281633968 * t);
-        Y0 += 0.00000001618 * Math.cos(3.60392485527 + 112.4101842907 * t);
-        Y0 += 0.00000001962 * Math.cos(4.18314006350 + 836.7654246791 * t);
-        Y0 += 0.00000001962 * Math.cos(4.18314006350 + 836.2777897121 * t);
-        Y0 += 0.00000001620 * Math.cos(2.47522214520 + 683.4301329758 * t);
-        Y0 += 0.00000001551 * Math.cos(0.77201297425 + 593.67068088151 * t);
-        Y0 += 0.00000001819 * Math.cos(4.45299196922 + 3060.5821048639 * t);
-        Y0 += 0.00000001634 * Math.cos(6.04073888889 + 56.3785338191 * t);
-        Y0 += 0.00000001791 * Math.cos(4.81648790148 + 502.8474472042 * t);
-        Y0 += 0.00000002008 * Math.cos(0.95169324404 + 487.3965129252 * t);
-        Y0 += 0.00000001551 * Math.cos(1.50150617084 + 3686.2522971763 * t);
-        Y0 += 0.00000001511 * Math.cos(0.18786787527 + 1518.46726746311 * t);
-        Y0 += 0.00000001910 * Math.cos(3.25977004432 + 228.83628063359 * t);
-        Y0 += 0.00000001738 * Math.cos(5.42191577135 + 1226.45442019471 * t);
-        Y0 += 0.00000001471 * Math.cos(4.48878361688 + 350.5759370839 * t);
-        Y0 += 0.00000001466 * Math.cos(3.39788090489 + 426.7938242497 * t);
-        Y0 += 0.00000001636 * Math.cos(4.00371950748 + 2200.2721761111 * t);
-        Y0 += 0.00000001940 * Math.cos(1.85697551551 + 1432.6399686319 * t);
-        Y0 += 0.00000001484 * Math.cos(2.41547562672 + 995.88984936931 * t);
-        Y0 += 0.00000001673 * Math.cos(2.66579038613 + 557.02211795201 * t);
-        Y0 += 0.00000002009 * Math.cos(2.30992514879 + 417.2807808039 * t);
-        Y0 += 0.00000001573 * Math.cos(6.26224126504 + 425.878800513 * t);
-        Y0 += 0.00000001562 * Math.cos(5.88372601556 + 416.547067621 * t);
-        Y0 += 0.00000001419 * Math.cos(4.93673377317 + 216.72430665921 * t);
-        Y0 += 0.00000001787 * Math.cos(4.51629855363 + 1059.3651152418 * t);
-        Y0 += 0.00000001600 * Math.cos(1.96218529204 + 1268.9926898476 * t);
-        Y0 += 0.00000001459 * Math.cos(0.29602595476 + 426.8901924693 * t);
-        Y0 += 0.00000001860 * Math.cos(5.30365267047 + 1160.27084133651 * t);
-        Y0 += 0.00000001409 * Math.cos(5.78259738624 + 383.81610373959 * t);
-        Y0 += 0.00000001599 * Math.cos(5.70543219748 + 1588.3535049208 * t);
-        Y0 += 0.00000001385 * Math.cos(0.39231250148 + 466.1988842747 * t);
-        Y0 += 0.00000001645 * Math.cos(4.96839986582 + 630.5798762419 * t);
-        Y0 += 0.00000001867 * Math.cos(4.87609131592 + 1744.6120500584 * t);
-        Y0 += 0.00000001796 * Math.cos(0.70669960542 + 424.39432780471 * t);
-        Y0 += 0.00000001802 * Math.cos(0.24900630046 + 572.473052231 * t);
-        Y0 += 0.00000001563 * Math.cos(1.20698143227 + 312.21589891 * t);
-        Y0 += 0.00000001811 * Math.cos(5.89884616616 + 1340.5928946772 * t);
-        Y0 += 0.00000001342 * Math.cos(4.09814653190 + 849.7711705308 * t);
-        Y0 += 0.00000001409 * Math.cos(2.76107795785 + 3472.9532017383 * t);
-        Y0 += 0.00000001340 * Math.cos(4.11708835504 + 1058.3537232855 * t);
-        Y0 += 0.00000001342 * Math.cos(3.46763239406 + 3377.4616094875 * t);
-        Y0 += 0.00000001764 * Math.cos(5.75117118327 + 312.9666584354 * t);
-        Y0 += 0.00000001801 * Math.cos(0.07014275858 + 833.7964792625 * t);
-        Y0 += 0.00000001801 * Math.cos(3.21173541218 + 833.30884429549 * t);
-        Y0 += 0.00000001504 * Math.cos(2.41769920056 + 1052.46401656211 * t);
-        Y0 += 0.00000001346 * Math.cos(5.55344965198 + 1066.7874787833 * t);
-        Y0 += 0.00000001711 * Math.cos(0.54051201789 + 1363.48744435711 * t);
-        Y0 += 0.00000001382 * Math.cos(5.00462801017 + 24.1352049047 * t);
-        Y0 += 0.00000001636 * Math.cos(4.96830039642 + 422.64922266551 * t);
-        Y0 += 0.00000001714 * Math.cos(1.09473818717 + 1165.16620244611 * t);
-        Y0 += 0.00000001547 * Math.cos(5.14492139001 + 1097.7587833105 * t);
-        Y0 += 0.00000001706 * Math.cos(5.12109897845 + 1696.341640249 * t);
-        Y0 += 0.00000001293 * Math.cos(1.41573154819 + 394.5986794451 * t);
-        Y0 += 0.00000001361 * Math.cos(5.15743428812 + 1579.0217720288 * t);
-        Y0 += 0.00000001329 * Math.cos(0.80850930613 + 1628.6735886825 * t);
-        Y0 += 0.00000001657 * Math.cos(1.38618195393 + 473.31243127551 * t);
-        Y0 += 0.00000001342 * Math.cos(2.46878559927 + 827.67977000299 * t);
-        Y0 += 0.00000001353 * Math.cos(2.59305944840 + 2499.1354458219 * t);
-        Y0 += 0.00000001322 * Math.cos(3.36892891689 + 1464.8832975463 * t);
-        Y0 += 0.00000001528 * Math.cos(5.01222546113 + 138.76131435421 * t);
-        Y0 += 0.00000001507 * Math.cos(5.88638092049 + 774.98957196349 * t);
-        Y0 += 0.00000001375 * Math.cos(2.40966547086 + 1093.5659976165 * t);
-        Y0 += 0.00000001393 * Math.cos(5.43252740056 + 913.9947038012 * t);
-        Y0 += 0.00000001302 * Math.cos(6.01486777282 + 494.7225082471 * t);
-        Y0 += 0.00000001266 * Math.cos(4.76723112510 + 1162.7667060011 * t);
-        Y0 += 0.00000001602 * Math.cos(5.54171392759 + 611.1992808273 * t);
-        Y0 += 0.00000001243 * Math.cos(0.73887599211 + 561.6904765255 * t);
-        Y0 += 0.00000001234 * Math.cos(0.32614546594 + 436.4032359151 * t);
-        Y0 += 0.00000001258 * Math.cos(1.58417788394 + 1162.67033778151 * t);
-        Y0 += 0.00000001490 * Math.cos(2.87282781805 + 1468.06469128401 * t);
-        Y0 += 0.00000001419 * Math.cos(1.54071741199 + 1138.3394995031 * t);
-        Y0 += 0.00000001394 * Math.cos(5.15652264283 + 958.9806540089 * t);
-        Y0 += 0.00000001290 * Math.cos(3.58642556110 + 990.47322339791 * t);
-        Y0 += 0.00000001199 * Math.cos(5.33903838516 + 414.31183538731 * t);
-        Y0 += 0.00000001364 * Math.cos(2.24443885688 + 252.8997888367 * t);
-        Y0 += 0.00000001494 * Math.cos(3.08741560160 + 1485.7363035817 * t);
-        Y0 += 0.00000001367 * Math.cos(3.04146468402 + 527.9626749028 * t);
-        Y0 += 0.00000001464 * Math.cos(2.33832116265 + 1066.69111056371 * t);
-        Y0 += 0.00000001248 * Math.cos(4.58111803711 + 9.3174100721 * t);
-        Y0 += 0.00000001194 * Math.cos(4.20928976432 + 774.25336665311 * t);
-        Y0 += 0.00000001328 * Math.cos(3.90212909678 + 482.9767246951 * t);
-        Y0 += 0.00000001176 * Math.cos(4.08169238786 + 633.07574090651 * t);
-        Y0 += 0.00000001352 * Math.cos(4.83033510793 + 696.7634551001 * t);
-        Y0 += 0.00000001235 * Math.cos(6.00673735479 + 1027.3824187583 * t);
-        Y0 += 0.00000001192 * Math.cos(1.46741047570 + 565.1470569091 * t);
-        Y0 += 0.00000001337 * Math.cos(3.61251738760 + 427.805216206 * t);
-        Y0 += 0.00000001581 * Math.cos(5.13731640491 + 642.58878435231 * t);
-        Y0 += 0.00000001186 * Math.cos(3.09982091978 + 2115.0755245988 * t);
-        Y0 += 0.00000001339 * Math.cos(4.45992661727 + 1161.7553140448 * t);
-        Y0 += 0.00000001260 * Math.cos(1.21412389098 + 633.9907646432 * t);
-        Y0 += 0.00000001309 * Math.cos(1.91003196451 + 1163.6817297378 * t);
-        Y0 += 0.00000001221 * Math.cos(6.07359053280 + 2538.00468677009 * t);
-        Y0 += 0.00000001133 * Math.cos(5.69121919762 + 738.814089786 * t);
-        Y0 += 0.00000001172 * Math.cos(0.90157251525 + 632.9793726869 * t);
-        Y0 += 0.00000001120 * Math.cos(3.02627322689 + 709.29362807231 * t);
-        Y0 += 0.00000001340 * Math.cos(4.06427807846 + 1060.8977720599 * t);
-        Y0 += 0.00000001126 * Math.cos(2.69535643306 + 2729.96314120569 * t);
-        Y0 += 0.00000001417 * Math.cos(2.51678541283 + 1364.4842820984 * t);
-        Y0 += 0.00000001112 * Math.cos(3.72336688315 + 1066.2180298117 * t);
-        Y0 += 0.00000001312 * Math.cos(6.06573442442 + 981.8752036888 * t);
-        Y0 += 0.00000001496 * Math.cos(4.33280725286 + 388.70897272171 * t);
-        Y0 += 0.00000001423 * Math.cos(6.09024848918 + 586.5571338807 * t);
-        Y0 += 0.00000001221 * Math.cos(5.21060853641 + 269.6776292571 * t);
-        Y0 += 0.00000001088 * Math.cos(6.00908281655 + 1280.0383901115 * t);
-        Y0 += 0.00000001089 * Math.cos(3.60595774779 + 946.97174589851 * t);
-        Y0 += 0.00000001132 * Math.cos(5.22322415543 + 1664.09831133461 * t);
-        Y0 += 0.00000001433 * Math.cos(0.48122466534 + 635.4752373515 * t);
-        Y0 += 0.00000001427 * Math.cos(4.54173500327 + 597.11519917759 * t);
-        Y0 += 0.00000001389 * Math.cos(5.65859882018 + 636.47207509279 * t);
-        Y0 += 0.00000001191 * Math.cos(3.52581460046 + 1887.5493351592 * t);
-        Y0 += 0.00000001420 * Math.cos(4.97687573513 + 1140.1394863965 * t);
-        Y0 += 0.00000001420 * Math.cos(4.97687573513 + 1140.6271213635 * t);
-        Y0 += 0.00000001082 * Math.cos(5.23314277920 + 915.4791765095 * t);
-        Y0 += 0.00000001134 * Math.cos(1.71654085995 + 102.3276918733 * t);
-        Y0 += 0.00000001061 * Math.cos(0.33709671438 + 925.0404040651 * t);
-        Y0 += 0.00000001302 * Math.cos(2.50290977947 + 637.2203424907 * t);
-        Y0 += 0.00000001036 * Math.cos(0.53477431200 + 1798.68365494221 * t);
-        Y0 += 0.00000001210 * Math.cos(0.08512627078 + 31.73638687251 * t);
-        Y0 += 0.00000001210 * Math.cos(3.22671892437 + 31.24875190549 * t);
-        Y0 += 0.00000001439 * Math.cos(4.57403818109 + 244.0747665915 * t);
-        Y0 += 0.00000001020 * Math.cos(3.62336804453 + 732.45130231059 * t);
-        Y0 += 0.00000001025 * Math.cos(5.53135631392 + 951.86710700811 * t);
-        Y0 += 0.00000001018 * Math.cos(0.87096787225 + 623.4663292411 * t);
-        Y0 += 0.00000001027 * Math.cos(5.32423350857 + 1474.9176058539 * t);
-        Y0 += 0.00000001114 * Math.cos(2.21692840772 + 103.37022159689 * t);
-        Y0 += 0.00000001040 * Math.cos(0.83745017570 + 314.1880065853 * t);
-        Y0 += 0.00000001371 * Math.cos(2.70777796640 + 4590.6663630055 * t);
-        Y0 += 0.00000001256 * Math.cos(4.91935004376 + 73.0533083755 * t);
-        Y0 += 0.00000001059 * Math.cos(4.12678319156 + 3590.7607049255 * t);
-        Y0 += 0.00000001008 * Math.cos(4.10762131673 + 1140.8902459219 * t);
-        Y0 += 0.00000001288 * Math.cos(3.82410217609 + 2004.60857094851 * t);
-        Y0 += 0.00000001033 * Math.cos(1.08663300387 + 1028.6062590357 * t);
-        Y0 += 0.00000001085 * Math.cos(2.21886409341 + 395.34943897051 * t);
-        Y0 += 0.00000000971 * Math.cos(6.06185705215 + 665.27088571111 * t);
-        Y0 += 0.00000001358 * Math.cos(3.05188631331 + 448.9334088873 * t);
-        Y0 += 0.00000000980 * Math.cos(1.98914636396 + 961.94959942551 * t);
-        Y0 += 0.00000000994 * Math.cos(1.97119491280 + 3796.4586183957 * t);
-        Y0 += 0.00000001202 * Math.cos(3.96954337111 + 453.66871130251 * t);
-        Y0 += 0.00000001028 * Math.cos(5.20130168371 + 2524.2652277355 * t);
-        Y0 += 0.00000001040 * Math.cos(0.76651765316 + 170.51700830159 * t);
-        Y0 += 0.00000000955 * Math.cos(2.14163148842 + 645.5577297689 * t);
-        Y0 += 0.00000001241 * Math.cos(5.96190045692 + 1048.0924124418 * t);
-        Y0 += 0.00000001076 * Math.cos(4.54364112469 + 2957.48933064529 * t);
-        Y0 += 0.00000001230 * Math.cos(0.76262291362 + 1354.6769763269 * t);
-        Y0 += 0.00000001240 * Math.cos(4.37679167579 + 610.93615626891 * t);
-        Y0 += 0.00000001240 * Math.cos(1.23519902220 + 610.44852130189 * t);
-        Y0 += 0.00000001022 * Math.cos(5.26668499759 + 276.79117625789 * t);
-        Y0 += 0.00000000924 * Math.cos(3.99063073330 + 842.65762352999 * t);
-        Y0 += 0.00000001083 * Math.cos(0.34974746355 + 1901.7764291608 * t);
-        Y0 += 0.00000001243 * Math.cos(3.14900420596 + 671.1605924345 * t);
-        Y0 += 0.00000001013 * Math.cos(4.11841355585 + 3376.9739745205 * t);
-        Y0 += 0.00000001100 * Math.cos(4.35722465068 + 1053.0334655337 * t);
-        Y0 += 0.00000001099 * Math.cos(1.23775171296 + 611.8299281462 * t);
-        Y0 += 0.00000001099 * Math.cos(3.10291088519 + 448.03963701001 * t);
-        Y0 += 0.00000001033 * Math.cos(3.86976091725 + 632.06434895021 * t);
-        Y0 += 0.00000000957 * Math.cos(2.32518989533 + 2965.09051261311 * t);
-        Y0 += 0.00000001030 * Math.cos(1.77683782212 + 1141.3778808889 * t);
-        Y0 += 0.00000001196 * Math.cos(4.13327524621 + 8520.87605922509 * t);
-        Y0 += 0.00000000967 * Math.cos(4.90659485068 + 829.0611768473 * t);
-        Y0 += 0.00000001166 * Math.cos(0.10987883520 + 1511.5661687834 * t);
-        Y0 += 0.00000001147 * Math.cos(4.05159175951 + 1390.2447113309 * t);
-        Y0 += 0.00000000873 * Math.cos(0.21746359309 + 322.26476143261 * t);
-        Y0 += 0.00000001137 * Math.cos(5.96453800922 + 950.90389916161 * t);
-        Y0 += 0.00000001201 * Math.cos(4.10007739292 + 1436.2969352491 * t);
-        Y0 += 0.00000000903 * Math.cos(4.75936593867 + 1475.9289978102 * t);
-        Y0 += 0.00000000858 * Math.cos(4.08152704252 + 3480.5543837061 * t);
-        Y0 += 0.00000001061 * Math.cos(3.86340607753 + 1014.3791650341 * t);
-        Y0 += 0.00000000852 * Math.cos(2.28740434163 + 1305.16817202511 * t);
-        Y0 += 0.00000001121 * Math.cos(2.22650360725 + 2861.9977383945 * t);
-        Y0 += 0.00000000978 * Math.cos(0.01048414798 + 1262.6299023722 * t);
-        Y0 += 0.00000000918 * Math.cos(2.29661901563 + 341.01470952831 * t);
-        Y0 += 0.00000000886 * Math.cos(0.44036055466 + 1482.2917852856 * t);
-        Y0 += 0.00000001153 * Math.cos(2.60386985545 + 1055.95671896799 * t);
-        Y0 += 0.00000001011 * Math.cos(0.56246587032 + 1379.9497705924 * t);
-        Y0 += 0.00000000844 * Math.cos(3.23872317111 + 231.70216018621 * t);
-        Y0 += 0.00000000939 * Math.cos(3.33692331113 + 1703.4551872498 * t);
-        Y0 += 0.00000001029 * Math.cos(1.16181986038 + 2545.6058687379 * t);
-        Y0 += 0.00000001042 * Math.cos(5.64923274668 + 297.8857390444 * t);
-        Y0 += 0.00000001170 * Math.cos(2.68197224847 + 46.22660543249 * t);
-        Y0 += 0.00000000962 * Math.cos(5.05559487343 + 37.88921815429 * t);
-        Y0 += 0.00000000877 * Math.cos(1.00643184196 + 357.68948408471 * t);
-        Y0 += 0.00000000988 * Math.cos(2.20288476603 + 7211.1596359777 * t);
-        Y0 += 0.00000000892 * Math.cos(3.84433244725 + 1571.1574655026 * t);
-        Y0 += 0.00000001109 * Math.cos(5.81958333017 + 348.1282565291 * t);
-        Y0 += 0.00000000827 * Math.cos(5.97485149381 + 20956.5058750001 * t);
-        Y0 += 0.00000000934 * Math.cos(5.21360076093 + 525.514994348 * t);
-        Y0 += 0.00000000914 * Math.cos(0.28108854924 + 1031.3145720214 * t);
-        Y0 += 0.00000000998 * Math.cos(2.30051279264 + 1505.9370944909 * t);
-        Y0 += 0.00000001003 * Math.cos(3.78100971695 + 1681.36378672201 * t);
-        Y0 += 0.00000001043 * Math.cos(5.91678666313 + 3384.5751564883 * t);
-        Y0 += 0.00000001133 * Math.cos(5.74894340340 + 1357.8583700646 * t);
-        Y0 += 0.00000001118 * Math.cos(1.45393796917 + 892.7970751507 * t);
-        Y0 += 0.00000000818 * Math.cos(1.62737897182 + 1153.1572943357 * t);
-        Y0 += 0.00000000883 * Math.cos(3.37767668051 + 533.45790092711 * t);
-        Y0 += 0.00000000883 * Math.cos(4.10460162145 + 526.4116642291 * t);
-        Y0 += 0.00000000966 * Math.cos(5.59349076815 + 381.8560581518 * t);
-        Y0 += 0.00000001014 * Math.cos(5.77098535837 + 50.6463936626 * t);
-        Y0 += 0.00000001014 * Math.cos(2.62939270478 + 50.15875869559 * t);
-        Y0 += 0.00000000977 * Math.cos(4.64792461073 + 25035.39094090229 * t);
-        Y0 += 0.00000000933 * Math.cos(5.47050254707 + 671.8967977449 * t);
-        Y0 += 0.00000000898 * Math.cos(3.74591414099 + 2516.66404576769 * t);
-        Y0 += 0.00000000787 * Math.cos(2.68667239235 + 1056.917434687 * t);
-        Y0 += 0.00000000788 * Math.cos(1.39640318925 + 4002.64416683289 * t);
-        Y0 += 0.00000000950 * Math.cos(4.11439083259 + 532.6285413488 * t);
-        Y0 += 0.00000000839 * Math.cos(5.03983812044 + 4686.6455902233 * t);
-        Y0 += 0.00000000965 * Math.cos(5.19147359292 + 1520.1641884925 * t);
-        Y0 += 0.00000001017 * Math.cos(1.65929197414 + 1020.0082393266 * t);
-        Y0 += 0.00000000820 * Math.cos(1.90274013249 + 348.3913810875 * t);
-        Y0 += 0.00000000786 * Math.cos(1.79549510698 + 178.11819026941 * t);
-        Y0 += 0.00000000929 * Math.cos(0.76030088993 + 1130.47519297691 * t);
-        Y0 += 0.00000000779 * Math.cos(1.34733977730 + 224.1009782184 * t);
-        Y0 += 0.00000000951 * Math.cos(1.75056688455 + 25021.16384690069 * t);
-        Y0 += 0.00000000917 * Math.cos(0.46397488831 + 3899.5513926143 * t);
-        Y0 += 0.00000000763 * Math.cos(4.49833164066 + 432.2586343309 * t);
-        Y0 += 0.00000000841 * Math.cos(1.57808557219 + 643.32249753521 * t);
-        Y0 += 0.00000000782 * Math.cos(0.66767670749 + 1731.76636290111 * t);
-        Y0 += 0.00000000945 * Math.cos(0.70467760679 + 758.5272457282 * t);
-        Y0 += 0.00000001032 * Math.cos(3.19953750862 + 3075.2968338325 * t);
-        Y0 += 0.00000000899 * Math.cos(5.79764466292 + 1053.4059725492 * t);
-        Y0 += 0.00000000822 * Math.cos(5.20921850714 + 1354.18934135989 * t);
-        Y0 += 0.00000000742 * Math.cos(0.43269937600 + 896.7292284138 * t);
-        Y0 += 0.00000000989 * Math.cos(5.20317411602 + 493.2862196486 * t);
-        Y0 += 0.00000000989 * Math.cos(2.27910418594 + 566.58334550761 * t);
-        Y0 += 0.00000000742 * Math.cos(2.64620540713 + 948.4562186068 * t);
-        Y0 += 0.00000000743 * Math.cos(4.86638449602 + 3267.2552882681 * t);
-        Y0 += 0.00000000785 * Math.cos(0.04530717907 + 5091.90814063229 * t);
-        Y0 += 0.00000000735 * Math.cos(5.88444842565 + 1689.2280932482 * t);
-        Y0 += 0.00000000902 * Math.cos(5.02430551931 + 3487.66793070691 * t);
-        Y0 += 0.00000000766 * Math.cos(3.02399738953 + 402.4629859713 * t);
-        Y0 += 0.00000000870 * Math.cos(3.62030616326 + 522.2999707155 * t);
-        Y0 += 0.00000000870 * Math.cos(0.72037948511 + 537.5695944407 * t);
-        Y0 += 0.00000000789 * Math.cos(0.10009487038 + 950.3826342998 * t);
-        Y0 += 0.00000000729 * Math.cos(4.89347516312 + 2226.0326053436 * t);
-        Y0 += 0.00000000967 * Math.cos(3.04856021602 + 149.3193796511 * t);
-        Y0 += 0.00000000740 * Math.cos(0.59195492427 + 172.0014810099 * t);
-        Y0 += 0.00000000732 * Math.cos(3.85868260020 + 1600.3624130312 * t);
-        Y0 += 0.00000000743 * Math.cos(2.09672296294 + 6011.6893409589 * t);
-        Y0 += 0.00000000773 * Math.cos(0.18183783219 + 8616.85528644289 * t);
-        Y0 += 0.00000000718 * Math.cos(5.42139839209 + 1055.2059594426 * t);
-        Y0 += 0.00000000814 * Math.cos(2.46839638562 + 5.385256809 * t);
-        Y0 += 0.00000000780 * Math.cos(6.07431076573 + 949.3712423435 * t);
-        Y0 += 0.00000000736 * Math.cos(4.07506898321 + 23968.89546371229 * t);
-        Y0 += 0.00000000703 * Math.cos(4.48261837950 + 2108.7127371234 * t);
-        Y0 += 0.00000000705 * Math.cos(2.70029551415 + 260.01333583751 * t);
-        Y0 += 0.00000000837 * Math.cos(1.52005452422 + 97.4323307637 * t);
-        Y0 += 0.00000000708 * Math.cos(3.40550883575 + 628.6077685666 * t);
-        Y0 += 0.00000000700 * Math.cos(1.73883435675 + 78.2068097885 * t);
-        Y0 += 0.00000000704 * Math.cos(5.21043618727 + 621.4942215658 * t);
-        Y0 += 0.00000000972 * Math.cos(5.51177820347 + 806.96977631951 * t);
-        Y0 += 0.00000000902 * Math.cos(1.24655233839 + 3259.39098174191 * t);
-        Y0 += 0.00000000806 * Math.cos(0.63642725064 + 703.8770021009 * t);
-        Y0 += 0.00000000861 * Math.cos(4.84084957436 + 215.99059347631 * t);
-        Y0 += 0.00000000761 * Math.cos(5.97371837033 + 2310.9661322975 * t);
-        Y0 += 0.00000000705 * Math.cos(4.55292890701 + 657.4065791849 * t);
-        Y0 += 0.00000000758 * Math.cos(2.16941238331 + 1382.64352936309 * t);
-        Y0 += 0.00000000727 * Math.cos(0.27903898087 + 64.7159210973 * t);
-        Y0 += 0.00000000687 * Math.cos(4.51235449745 + 952.8639447494 * t);
-        Y0 += 0.00000000692 * Math.cos(4.02871358383 + 10.051123255 * t);
-        Y0 += 0.00000000963 * Math.cos(2.76790770152 + 6916.1034067881 * t);
-        Y0 += 0.00000000906 * Math.cos(4.48544256463 + 110.4019545931 * t);
-        Y0 += 0.00000000729 * Math.cos(2.53279790409 + 3789.34507139489 * t);
-        Y0 += 0.00000000678 * Math.cos(4.97651378738 + 2218.91905834281 * t);
-        Y0 += 0.00000000810 * Math.cos(1.91237826709 + 678.0135070044 * t);
-        Y0 += 0.00000000761 * Math.cos(5.70182901948 + 1542.8462898513 * t);
-        Y0 += 0.00000000734 * Math.cos(6.16258391033 + 4863.4417305527 * t);
-        Y0 += 0.00000000793 * Math.cos(0.81892149809 + 209.6107596584 * t);
-        Y0 += 0.00000000666 * Math.cos(1.94007934478 + 4127.5652170209 * t);
-        Y0 += 0.00000000849 * Math.cos(2.44682670396 + 368.83825021259 * t);
-        Y0 += 0.00000000815 * Math.cos(0.85093813087 + 359.173956793 * t);
-        Y0 += 0.00000000865 * Math.cos(4.95824919504 + 157.0236274829 * t);
-        Y0 += 0.00000000799 * Math.cos(4.90559666559 + 519.15220687259 * t);
-        Y0 += 0.00000000730 * Math.cos(0.97760856285 + 98.6561710411 * t);
-        Y0 += 0.00000000923 * Math.cos(4.75879664446 + 179.6026629777 * t);
-        Y0 += 0.00000000862 * Math.cos(2.42176207749 + 1669.83045149109 * t);
-        Y0 += 0.00000000903 * Math.cos(4.81493761835 + 1745.0996850254 * t);
-        Y0 += 0.00000000704 * Math.cos(5.19561938169 + 718.8548556279 * t);
-        Y0 += 0.00000000765 * Math.cos(0.82148767779 + 1834.8591371197 * t);
-        Y0 += 0.00000000651 * Math.cos(2.13022538110 + 153.25153291419 * t);
-        Y0 += 0.00000000670 * Math.cos(3.96692910866 + 5702.4110183031 * t);
-        Y0 += 0.00000000689 * Math.cos(5.62284795095 + 540.49284787499 * t);
-        Y0 += 0.00000000677 * Math.cos(0.37927842067 + 745.6815585709 * t);
-        Y0 += 0.00000000646 * Math.cos(1.69538207689 + 2118.5200428949 * t);
-        Y0 += 0.00000000744 * Math.cos(6.04329221154 + 305.85311143459 * t);
-        Y0 += 0.00000000837 * Math.cos(1.94363906360 + 1818.3968108844 * t);
-        Y0 += 0.00000000795 * Math.cos(3.06915549224 + 376.9150050599 * t);
-        Y0 += 0.00000000639 * Math.cos(5.15999306490 + 5282.92637442791 * t);
-        Y0 += 0.00000000639 * Math.cos(4.79373670634 + 651.1868040614 * t);
-        Y0 += 0.00000000791 * Math.cos(3.64973766479 + 2432.21815378081 * t);
-        Y0 += 0.00000000666 * Math.cos(1.47748551243 + 2439.3317007816 * t);
-        Y0 += 0.00000000699 * Math.cos(2.04088853152 + 999.8220026324 * t);
-        Y0 += 0.00000000848 * Math.cos(3.15425868901 + 445.00125562421 * t);
-        Y0 += 0.00000000784 * Math.cos(2.44486888742 + 1372.3485886246 * t);
-        Y0 += 0.00000000784 * Math.cos(5.48434762861 + 494.022424959 * t);
-        Y0 += 0.00000000826 * Math.cos(0.95388118622 + 1063.0702659688 * t);
-        Y0 += 0.00000000773 * Math.cos(0.18999764486 + 3334.1725803092 * t);
-        Y0 += 0.00000000766 * Math.cos(5.19735998756 + 927.5911504839 * t);
-        Y0 += 0.00000000629 * Math.cos(3.97966005206 + 444.1074837469 * t);
-        Y0 += 0.00000000680 * Math.cos(5.78589517711 + 2854.3965564267 * t);
-        Y0 += 0.00000000652 * Math.cos(2.84744627046 + 99.92819542829 * t);
-        Y0 += 0.00000000628 * Math.cos(3.17606592131 + 3693.8534791441 * t);
-        Y0 += 0.00000000810 * Math.cos(4.60918284532 + 721.40560204669 * t);
-        Y0 += 0.00000000854 * Math.cos(4.61209992426 + 1366.4563897737 * t);
-        Y0 += 0.00000000867 * Math.cos(4.19294864410 + 10846.3131030077 * t);
-        Y0 += 0.00000000788 * Math.cos(1.41713341612 + 1040.97886544099 * t);
-        Y0 += 0.00000000626 * Math.cos(5.79379273730 + 841.9068640046 * t);
-        Y0 += 0.00000000630 * Math.cos(0.46054027581 + 291.76902978489 * t);
-        Y0 += 0.00000000650 * Math.cos(1.16669181964 + 558.3889705813 * t);
-        Y0 += 0.00000000611 * Math.cos(1.65671418659 + 4443.9570866775 * t);
-        Y0 += 0.00000000726 * Math.cos(0.52368203745 + 2151.25100677631 * t);
-        Y0 += 0.00000000751 * Math.cos(1.10181429478 + 446.06752933469 * t);
-        Y0 += 0.00000000615 * Math.cos(0.87878140238 + 208.3894115085 * t);
-        Y0 += 0.00000000745 * Math.cos(1.03884888390 + 451.97179027311 * t);
-        Y0 += 0.00000000614 * Math.cos(2.12015186904 + 6121.8956621783 * t);
-        Y0 += 0.00000000603 * Math.cos(1.87255401888 + 181.56270856549 * t);
-        Y0 += 0.00000000616 * Math.cos(2.28876027875 + 1144.0716396596 * t);
-        Y0 += 0.00000000636 * Math.cos(2.38750125211 + 1751.2957139325 * t);
-        Y0 += 0.00000000596 * Math.cos(1.00492203164 + 737.60480372361 * t);
-        Y0 += 0.00000000619 * Math.cos(2.80073636220 + 326.1969146957 * t);
-        Y0 += 0.00000000787 * Math.cos(2.60401736226 + 1802.12817323829 * t);
-        Y0 += 0.00000000781 * Math.cos(2.22467267459 + 88.35873817511 * t);
-        Y0 += 0.00000000617 * Math.cos(2.17402643196 + 921.108250802 * t);
-        Y0 += 0.00000000591 * Math.cos(3.73213502799 + 1166.1630401874 * t);
-        Y0 += 0.00000000590 * Math.cos(1.05361074587 + 3634.37720703489 * t);
-        Y0 += 0.00000000722 * Math.cos(1.40579320968 + 1791.5701079414 * t);
-        Y0 += 0.00000000820 * Math.cos(2.67631464422 + 1372.08546406621 * t);
-        Y0 += 0.00000000590 * Math.cos(2.98691366177 + 627.61093082531 * t);
-        Y0 += 0.00000000611 * Math.cos(0.43380344797 + 392.9017584157 * t);
-        Y0 += 0.00000000611 * Math.cos(0.76528954681 + 666.96780674051 * t);
-        Y0 += 0.00000000584 * Math.cos(4.14039377030 + 2737.5643231735 * t);
-        Y0 += 0.00000000624 * Math.cos(0.20438602023 + 702.1800810715 * t);
-        Y0 += 0.00000000600 * Math.cos(5.10974978259 + 203.49405039889 * t);
-        Y0 += 0.00000000720 * Math.cos(1.60831618587 + 3333.7426971825 * t);
-        Y0 += 0.00000000715 * Math.cos(4.50656990635 + 3347.96979118411 * t);
-        Y0 += 0.00000000604 * Math.cos(5.25311127639 + 427.3632732213 * t);
-        Y0 += 0.00000000578 * Math.cos(5.39623231304 + 881.7513748868 * t);
-        Y0 += 0.00000000752 * Math.cos(3.84564478305 + 799.36859435169 * t);
-        Y0 += 0.00000000581 * Math.cos(3.86115308052 + 2954.0448123492 * t);
-        Y0 += 0.00000000754 * Math.cos(2.66282639252 + 1022.9771847432 * t);
-        Y0 += 0.00000000772 * Math.cos(1.65864906434 + 711.7413086271 * t);
-        Y0 += 0.00000000577 * Math.cos(5.47810665105 + 700.2079733962 * t);
-        Y0 += 0.00000000736 * Math.cos(0.60214952186 + 458.12212942741 * t);
-        Y0 += 0.00000000736 * Math.cos(0.59694347292 + 601.7474357288 * t);
-        Y0 += 0.00000000693 * Math.cos(3.40638930298 + 1967.96000801901 * t);
-        Y0 += 0.00000000740 * Math.cos(3.80855554417 + 416.79314583689 * t);
-        Y0 += 0.00000000704 * Math.cos(1.18207892692 + 425.35753565121 * t);
-        Y0 += 0.00000000708 * Math.cos(3.02675954280 + 3391.68870348911 * t);
-        Y0 += 0.00000000607 * Math.cos(1.06404276153 + 105.76971804189 * t);
-        Y0 += 0.00000000559 * Math.cos(2.48504877569 + 20426.8149099055 * t);
-        Y0 += 0.00000000628 * Math.cos(4.57438103298 + 1809.72935520611 * t);
-        Y0 += 0.00000000696 * Math.cos(1.91024083106 + 378.8871127352 * t);
-        Y0 += 0.00000000554 * Math.cos(2.66964046417 + 386.00065973601 * t);
-        Y0 += 0.00000000589 * Math.cos(4.41883744785 + 3273.8812003019 * t);
-        Y0 += 0.00000000633 * Math.cos(0.34663077486 + 131.16013238639 * t);
-        Y0 += 0.00000000562 * Math.cos(4.54266444163 + 4803.9654584435 * t);
-        Y0 += 0.00000000560 * Math.cos(3.13968869190 + 421.212934067 * t);
-        Y0 += 0.00000000580 * Math.cos(5.96191438656 + 5179.8336002093 * t);
-        Y0 += 0.00000000740 * Math.cos(4.24815360369 + 913.5070688342 * t);
-        Y0 += 0.00000000699 * Math.cos(5.94463211291 + 2627.3580019541 * t);
-        Y0 += 0.00000000699 * Math.cos(2.80303945932 + 2626.8703669871 * t);
-        Y0 += 0.00000000747 * Math.cos(3.30207127034 + 90.3187837629 * t);
-        Y0 += 0.00000000575 * Math.cos(6.12011876370 + 1656.9847643338 * t);
-        Y0 += 0.00000000555 * Math.cos(0.89361846240 + 6702.8043113501 * t);
-        Y0 += 0.00000000559 * Math.cos(3.70914713824 + 388.9696051526 * t);
-        Y0 += 0.00000000672 * Math.cos(2.38005250851 + 2417.24030025381 * t);
-        Y0 += 0.00000000606 * Math.cos(3.82620569675 + 3693.36584417709 * t);
-        Y0 += 0.00000000538 * Math.cos(2.49928826237 + 7564.58690325449 * t);
-        Y0 += 0.00000000539 * Math.cos(4.29776010398 + 828.16740497 * t);
-        Y0 += 0.00000000548 * Math.cos(2.14286023475 + 4700.87268422489 * t);
-        Y0 += 0.00000000599 * Math.cos(3.48576134992 + 108.47803102759 * t);
-        Y0 += 0.00000000550 * Math.cos(2.51535265264 + 3046.3550108623 * t);
-        Y0 += 0.00000000652 * Math.cos(5.01250339010 + 282.20780222929 * t);
-        Y0 += 0.00000000586 * Math.cos(0.16653899616 + 878.08234618209 * t);
-        Y0 += 0.00000000622 * Math.cos(3.01686451694 + 568.80402352629 * t);
-        Y0 += 0.00000000728 * Math.cos(5.63080764277 + 344.45922782439 * t);
-        Y0 += 0.00000000544 * Math.cos(2.31769965190 + 10633.0140075697 * t);
-        Y0 += 0.00000000657 * Math.cos(0.62701478688 + 464.97504399731 * t);
-        Y0 += 0.00000000546 * Math.cos(1.66601868578 + 4112.8504880523 * t);
-        Y0 += 0.00000000541 * Math.cos(4.47410178003 + 121.0082039998 * t);
-        Y0 += 0.00000000695 * Math.cos(5.90409812875 + 421.6885069465 * t);
-        Y0 += 0.00000000601 * Math.cos(4.73252889479 + 426.3207434977 * t);
-        Y0 += 0.00000000525 * Math.cos(4.24523707483 + 76674.39271195528 * t);
-        Y0 += 0.00000000532 * Math.cos(5.96635649363 + 8734.17515466309 * t);
-        Y0 += 0.00000000622 * Math.cos(5.60046914442 + 1091.3814416201 * t);
-        Y0 += 0.00000000553 * Math.cos(0.95137962286 + 604.2287461784 * t);
-        Y0 += 0.00000000633 * Math.cos(5.27242003059 + 2274.303015153 * t);
-        Y0 += 0.00000000564 * Math.cos(0.16497975863 + 241.8540885728 * t);
-        Y0 += 0.00000000516 * Math.cos(4.97603038853 + 5599.3182440845 * t);
-        Y0 += 0.00000000645 * Math.cos(6.01896827268 + 10110.4365894759 * t);
-        Y0 += 0.00000000509 * Math.cos(3.68808359097 + 1159.0494931866 * t);
-        Y0 += 0.00000000507 * Math.cos(3.50264799357 + 615.7620814093 * t);
-        Y0 += 0.00000000599 * Math.cos(2.57801707543 + 185.2317372702 * t);
-        Y0 += 0.00000000522 * Math.cos(5.63448152934 + 1884.36794142151 * t);
-        Y0 += 0.00000000520 * Math.cos(3.87463188031 + 1457.2821155785 * t);
-        Y0 += 0.00000000527 * Math.cos(1.69611452147 + 1512.56300652469 * t);
-        Y0 += 0.00000000503 * Math.cos(4.96282947219 + 1037.7974717033 * t);
-        Y0 += 0.00000000517 * Math.cos(3.70527239794 + 6018.8028879597 * t);
-        Y0 += 0.00000000613 * Math.cos(0.15991201142 + 607.8977748831 * t);
-        Y0 += 0.00000000601 * Math.cos(0.38470330699 + 700.6956083632 * t);
-        Y0 += 0.00000000505 * Math.cos(1.61427941704 + 5908.5965667403 * t);
-        Y0 += 0.00000000679 * Math.cos(0.99986935446 + 1357.3707350976 * t);
-        Y0 += 0.00000000496 * Math.cos(3.33323961426 + 1048.8431719672 * t);
-        Y0 += 0.00000000602 * Math.cos(5.52925928036 + 680.98245242101 * t);
-        Y0 += 0.00000000621 * Math.cos(4.68680597499 + 1560.3748897971 * t);
-        Y0 += 0.00000000623 * Math.cos(1.32300241317 + 120.01136625851 * t);
-        Y0 += 0.00000000494 * Math.cos(5.73456422193 + 523.5719951027 * t);
-        Y0 += 0.00000000494 * Math.cos(4.88930673362 + 536.29757005351 * t);
-        Y0 += 0.00000000500 * Math.cos(4.78996332607 + 2840.6570973921 * t);
-        Y0 += 0.00000000657 * Math.cos(0.40007659336 + 2351.0567213956 * t);
-        Y0 += 0.00000000587 * Math.cos(0.46191357824 + 215.50295850929 * t);
-        Y0 += 0.00000000609 * Math.cos(4.14432847094 + 614.868309532 * t);
-        Y0 += 0.00000000609 * Math.cos(4.14432847094 + 614.38067456499 * t);
-        Y0 += 0.00000000502 * Math.cos(0.25251420069 + 1379.4621356254 * t);
-        Y0 += 0.00000000492 * Math.cos(3.31162640299 + 419.28901050149 * t);
-        Y0 += 0.00000000485 * Math.cos(1.66419456691 + 1937.9519113383 * t);
-        Y0 += 0.00000000484 * Math.cos(0.12315312076 + 102.0981972097 * t);
-        Y0 += 0.00000000491 * Math.cos(0.11387232043 + 419.1926422819 * t);
-        Y0 += 0.00000000636 * Math.cos(5.51773112302 + 664.5201261857 * t);
-        Y0 += 0.00000000478 * Math.cos(4.25859285582 + 204.97852310719 * t);
-        Y0 += 0.00000000494 * Math.cos(2.92886717648 + 2758.9049641759 * t);
-        Y0 += 0.00000000495 * Math.cos(1.58073941957 + 398.5308327082 * t);
-        Y0 += 0.00000000483 * Math.cos(0.96081432259 + 89.10949770051 * t);
-        Y0 += 0.00000000589 * Math.cos(0.26853478837 + 2740.7457169112 * t);
-        Y0 += 0.00000000600 * Math.cos(0.00177768827 + 634.512029505 * t);
-        Y0 += 0.00000000486 * Math.cos(3.47387686711 + 2203.94120481581 * t);
-        Y0 += 0.00000000515 * Math.cos(4.56583984880 + 1091.1183170617 * t);
-        Y0 += 0.00000000615 * Math.cos(5.82613512558 + 3700.96702614491 * t);
-        Y0 += 0.00000000490 * Math.cos(3.48488181967 + 8631.0823804445 * t);
-        Y0 += 0.00000000494 * Math.cos(6.23491155272 + 984.35651413839 * t);
-        Y0 += 0.00000000475 * Math.cos(3.84857388040 + 103.59971626049 * t);
-        Y0 += 0.00000000475 * Math.cos(4.16103129130 + 835.5440765292 * t);
-        Y0 += 0.00000000512 * Math.cos(0.43877261458 + 397.9001853893 * t);
-        Y0 += 0.00000000655 * Math.cos(3.37451455932 + 127.22797912329 * t);
-        Y0 += 0.00000000468 * Math.cos(5.66081615363 + 582.62498061761 * t);
-        Y0 += 0.00000000468 * Math.cos(1.82146214833 + 477.2445845386 * t);
-        Y0 += 0.00000000543 * Math.cos(1.20297336764 + 481.1767378017 * t);
-        Y0 += 0.00000000543 * Math.cos(6.27930493431 + 578.69282735451 * t);
-        Y0 += 0.00000000517 * Math.cos(2.43390627861 + 76.0222537921 * t);
-        Y0 += 0.00000000573 * Math.cos(6.09163052699 + 1132.9228735317 * t);
-        Y0 += 0.00000000649 * Math.cos(5.08795164761 + 3184.6093831746 * t);
-        Y0 += 0.00000000480 * Math.cos(2.95348186297 + 2133.2347718635 * t);
-        Y0 += 0.00000000468 * Math.cos(0.49074178268 + 2048.1582325577 * t);
-        Y0 += 0.00000000594 * Math.cos(1.96853371116 + 390.9296507404 * t);
-        Y0 += 0.00000000459 * Math.cos(3.19244771660 + 937.8860912224 * t);
-        Y0 += 0.00000000481 * Math.cos(0.56878471280 + 1443.6856688958 * t);
-        Y0 += 0.00000000463 * Math.cos(4.21398380834 + 429.7627696663 * t);
-        Y0 += 0.00000000545 * Math.cos(4.87328765120 + 3157.04896704871 * t);
-        Y0 += 0.00000000475 * Math.cos(3.93834590521 + 3907.1525745821 * t);
-        Y0 += 0.00000000609 * Math.cos(3.24848207205 + 1595.5364878908 * t);
-        Y0 += 0.00000000473 * Math.cos(4.69599627940 + 733.67265046051 * t);
-        Y0 += 0.00000000541 * Math.cos(5.85990514227 + 52176.0501006319 * t);
-        Y0 += 0.00000000533 * Math.cos(1.27151481340 + 382.85289589309 * t);
-        Y0 += 0.00000000534 * Math.cos(2.70958907609 + 843.8789716799 * t);
-        Y0 += 0.00000000451 * Math.cos(3.99705226028 + 5371.30441967789 * t);
-        Y0 += 0.00000000471 * Math.cos(2.88657776376 + 2572.4325716809 * t);
-        Y0 += 0.00000000558 * Math.cos(0.57207825570 + 594.8945211589 * t);
-        Y0 += 0.00000000588 * Math.cos(0.10678640907 + 458.33457774851 * t);
-        Y0 += 0.00000000482 * Math.cos(2.66167846082 + 6114.7821151775 * t);
-        Y0 += 0.00000000449 * Math.cos(6.27428540227 + 1221.6047488379 * t);
-        Y0 += 0.00000000447 * Math.cos(3.64756714520 + 584.26951202031 * t);
-        Y0 += 0.00000000447 * Math.cos(3.83471115676 + 475.6000531359 * t);
-        Y0 += 0.00000000466 * Math.cos(2.22916713968 + 632.50629193491 * t);
-        Y0 += 0.00000000624 * Math.cos(1.32472646328 + 10529.9212333511 * t);
-        Y0 += 0.00000000605 * Math.cos(3.46941164072 + 300.854684461 * t);
-        Y0 += 0.00000000487 * Math.cos(0.70356343888 + 321.3015535861 * t);
-        Y0 += 0.00000000487 * Math.cos(1.71799868416 + 206.9049388002 * t);
-        Y0 += 0.00000000526 * Math.cos(0.02936914645 + 1336.6607414141 * t);
-        Y0 += 0.00000000450 * Math.cos(2.88322597733 + 518.62844988331 * t);
-        Y0 += 0.00000000450 * Math.cos(1.45745967104 + 541.2411152729 * t);
-        Y0 += 0.00000000452 * Math.cos(4.02637396486 + 252.4121538697 * t);
-        Y0 += 0.00000000569 * Math.cos(1.35475382052 + 207.426203662 * t);
-        Y0 += 0.00000000442 * Math.cos(2.28319191504 + 10976.83498721549 * t);
-        Y0 += 0.00000000435 * Math.cos(3.61536948260 + 218.4719039259 * t);
-        Y0 += 0.00000000536 * Math.cos(5.87308650386 + 1781.2751672029 * t);
-        Y0 += 0.00000000606 * Math.cos(6.18675939821 + 6599.7115371315 * t);
-        Y0 += 0.00000000430 * Math.cos(4.70071691496 + 2535.3109279994 * t);
-        Y0 += 0.00000000465 * Math.cos(2.19694664935 + 1084.0047700609 * t);
-        Y0 += 0.00000000528 * Math.cos(4.80779932075 + 557.75832326239 * t);
-        Y0 += 0.00000000602 * Math.cos(0.32017022594 + 354.76872277791 * t);
-        Y0 += 0.00000000602 * Math.cos(0.87892276884 + 705.1008423783 * t);
-        Y0 += 0.00000000579 * Math.cos(0.48304329741 + 462.05428269051 * t);
-        Y0 += 0.00000000579 * Math.cos(0.71604969737 + 597.8152824657 * t);
-        Y0 += 0.00000000480 * Math.cos(3.58335127463 + 1106.0961705887 * t);
-        Y0 += 0.00000000561 * Math.cos(5.19314855697 + 1859.2381595079 * t);
-        Y0 += 0.00000000565 * Math.cos(4.77820464913 + 531.8948281659 * t);
-        Y0 += 0.00000000593 * Math.cos(2.30529340153 + 1291.6747912064 * t);
-        Y0 += 0.00000000593 * Math.cos(5.44688605512 + 1291.1871562394 * t);
-        Y0 += 0.00000000467 * Math.cos(3.40834000086 + 2833.0559154243 * t);
-        Y0 += 0.00000000423 * Math.cos(4.74881408933 + 799.8562293187 * t);
-        Y0 += 0.00000000591 * Math.cos(4.03092476406 + 1819.3936486257 * t);
-        Y0 += 0.00000000442 * Math.cos(5.80146904507 + 1069.18697522831 * t);
-        Y0 += 0.00000000538 * Math.cos(2.60007571681 + 1065.35788782919 * t);
-        Y0 += 0.00000000472 * Math.cos(3.85236778376 + 460.2946233363 * t);
-        Y0 += 0.00000000432 * Math.cos(4.43898680981 + 2080.8746422241 * t);
-        Y0 += 0.00000000415 * Math.cos(1.39162146625 + 4760.34895633411 * t);
-        Y0 += 0.00000000455 * Math.cos(1.46286831547 + 2527.4466214732 * t);
-        Y0 += 0.00000000506 * Math.cos(1.93326787770 + 535.6669227346 * t);
-        Y0 += 0.00000000408 * Math.cos(4.65095351213 + 237.4343003427 * t);
-        Y0 += 0.00000000558 * Math.cos(5.74240390212 + 2348.087775979 * t);
-        Y0 += 0.00000000506 * Math.cos(3.68273316284 + 2424.3538472546 * t);
-        Y0 += 0.00000000496 * Math.cos(4.48964897087 + 4120.4516700201 * t);
-        Y0 += 0.00000000496 * Math.cos(4.48964897088 + 4119.96403505309 * t);
-        Y0 += 0.00000000432 * Math.cos(6.00820922222 + 1301.236018762 * t);
-        Y0 += 0.00000000550 * Math.cos(0.72236210742 + 8837.26792888169 * t);
-        Y0 += 0.00000000546 * Math.cos(1.74052459203 + 761.98382611181 * t);
-        Y0 += 0.00000000546 * Math.cos(1.74052459203 + 761.49619114479 * t);
-        Y0 += 0.00000000435 * Math.cos(1.40434697094 + 205.8935468439 * t);
-        Y0 += 0.00000000463 * Math.cos(2.74974947852 + 633.5488216585 * t);
-        Y0 += 0.00000000408 * Math.cos(3.36326895916 + 1482.55490984399 * t);
-        Y0 += 0.00000000483 * Math.cos(5.05507740192 + 2879.2632137819 * t);
-        Y0 += 0.00000000511 * Math.cos(5.17393230173 + 1670.5812110165 * t);
-        Y0 += 0.00000000421 * Math.cos(4.17496125106 + 638.65663108921 * t);
-        Y0 += 0.00000000512 * Math.cos(6.20542375764 + 1474.4299708869 * t);
-        Y0 += 0.00000000388 * Math.cos(4.23664234872 + 2425.10460678 * t);
-        Y0 += 0.00000000483 * Math.cos(0.89849999521 + 154.0546820663 * t);
-        Y0 += 0.00000000412 * Math.cos(2.38738008672 + 83.6234357599 * t);
-        Y0 += 0.00000000384 * Math.cos(4.81263785100 + 673.8689054202 * t);
-        Y0 += 0.00000000400 * Math.cos(1.20395052136 + 2755.7235704382 * t);
-        Y0 += 0.00000000500 * Math.cos(5.48455845139 + 1973.37663399041 * t);
-        Y0 += 0.00000000380 * Math.cos(4.43228458999 + 3583.64715792471 * t);
-        Y0 += 0.00000000509 * Math.cos(1.52055177900 + 5856.23384163189 * t);
-        Y0 += 0.00000000392 * Math.cos(1.84630187584 + 6328.0812106155 * t);
-        Y0 += 0.00000000391 * Math.cos(3.77313110506 + 670.89996000361 * t);
-        Y0 += 0.00000000397 * Math.cos(1.19492848989 + 50586.48957038109 * t);
-        Y0 += 0.00000000468 * Math.cos(4.28211685631 + 1970.9289534356 * t);
-        Y0 += 0.00000000491 * Math.cos(4.48946441703 + 1288.7058457898 * t);
-        Y0 += 0.00000000491 * Math.cos(4.48946441703 + 1288.21821082279 * t);
-        Y0 += 0.00000000472 * Math.cos(0.93312891407 + 416.532513406 * t);
-        Y0 += 0.00000000491 * Math.cos(1.09230657741 + 601.5349874077 * t);
-        Y0 += 0.00000000476 * Math.cos(1.86175772015 + 2015.42726867629 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 638 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.01912556490 * Math.cos(2.66195491149 + 0.2438174835 * t);
-        Y1 += 0.00634902259 * Math.cos(4.81945405671 + 1059.6257476727 * t);
-        Y1 += 0.00600483021 * Math.cos(0.85860311815 + 522.8212355773 * t);
-        Y1 += 0.00589005176 * Math.cos(0.34484971445 + 537.0483295789 * t);
-        Y1 += 0.00081432741 * Math.cos(1.90251633780 + 7.3573644843 * t);
-        Y1 += 0.00046191617 * Math.cos(5.16976189642 + 1589.3167127673 * t);
-        Y1 += 0.00037242394 * Math.cos(1.81456616256 + 529.9347825781 * t);
-        Y1 += 0.00032508552 * Math.cos(0.17601327437 + 1052.51220067191 * t);
-        Y1 += 0.00031231184 * Math.cos(0.77622354337 + 1066.7392946735 * t);
-        Y1 += 0.00025950740 * Math.cos(0.81541881282 + 529.44714761109 * t);
-        Y1 += 0.00020232242 * Math.cos(2.89760937255 + 110.45013870291 * t);
-        Y1 += 0.00017941640 * Math.cos(2.45019898255 + 426.8420083595 * t);
-        Y1 += 0.00013643757 * Math.cos(5.01666809262 + 633.0275567967 * t);
-        Y1 += 0.00012962263 * Math.cos(0.99688324083 + 515.70768857651 * t);
-        Y1 += 0.00009123979 * Math.cos(0.21013091394 + 544.1618765797 * t);
-        Y1 += 0.00008098978 * Math.cos(4.58582444610 + 949.4194264533 * t);
-        Y1 += 0.00007143102 * Math.cos(1.60287874390 + 323.74923414091 * t);
-        Y1 += 0.00004115125 * Math.cos(6.25575758842 + 205.9417309537 * t);
-        Y1 += 0.00004370464 * Math.cos(5.85779443169 + 736.1203310153 * t);
-        Y1 += 0.00003400571 * Math.cos(1.33020584264 + 526.7533888404 * t);
-        Y1 += 0.00003332481 * Math.cos(6.14941384034 + 533.1161763158 * t);
-        Y1 += 0.00003869655 * Math.cos(1.76724210080 + 14.47091148511 * t);
-        Y1 += 0.00003043986 * Math.cos(0.08336634740 + 526.00262931501 * t);
-        Y1 += 0.00003013156 * Math.cos(1.02614271964 + 419.72846135871 * t);
-        Y1 += 0.00003001886 * Math.cos(1.11282294120 + 533.8669358412 * t);
-        Y1 += 0.00002892493 * Math.cos(3.33842613324 + 103.3365917021 * t);
-        Y1 += 0.00002393125 * Math.cos(2.05143779600 + 316.6356871401 * t);
-        Y1 += 0.00002989944 * Math.cos(5.51952313334 + 2119.00767786191 * t);
-        Y1 += 0.00002354966 * Math.cos(4.86075556884 + 109.9625037359 * t);
-        Y1 += 0.00001853775 * Math.cos(1.19886684605 + 1596.43025976811 * t);
-        Y1 += 0.00001972856 * Math.cos(3.51875485226 + 956.53297345411 * t);
-        Y1 += 0.00001820762 * Math.cos(5.38126290712 + 743.23387801611 * t);
-        Y1 += 0.00001810752 * Math.cos(5.40985497363 + 95.7354097343 * t);
-        Y1 += 0.00001531701 * Math.cos(2.74785652806 + 117.5636857037 * t);
-        Y1 += 0.00001894874 * Math.cos(0.29375694918 + 1582.2031657665 * t);
-        Y1 += 0.00001527752 * Math.cos(6.20401691579 + 640.1411037975 * t);
-        Y1 += 0.00001634391 * Math.cos(6.11004516268 + 1045.3986536711 * t);
-        Y1 += 0.00001088512 * Math.cos(6.22920436039 + 625.9140097959 * t);
-        Y1 += 0.00001025988 * Math.cos(1.00202485870 + 433.9555553603 * t);
-        Y1 += 0.00001045564 * Math.cos(0.95995839150 + 1265.81129610991 * t);
-        Y1 += 0.00000977087 * Math.cos(0.62771509387 + 220.6564599223 * t);
-        Y1 += 0.00000984636 * Math.cos(6.14139798618 + 1169.83206889211 * t);
-        Y1 += 0.00000805130 * Math.cos(4.73126707725 + 942.3058794525 * t);
-        Y1 += 0.00000821829 * Math.cos(0.95222022801 + 309.0345051723 * t);
-        Y1 += 0.00000798891 * Math.cos(0.28589806015 + 1155.6049748905 * t);
-        Y1 += 0.00000834956 * Math.cos(0.44929628324 + 522.3336006103 * t);
-        Y1 += 0.00000600935 * Math.cos(3.92607423432 + 6.86972951729 * t);
-        Y1 += 0.00000752130 * Math.cos(4.84106440602 + 1162.7185218913 * t);
-        Y1 += 0.00000539923 * Math.cos(2.67204015773 + 853.4401992355 * t);
-        Y1 += 0.00000599196 * Math.cos(5.78978587742 + 213.0552779545 * t);
-        Y1 += 0.00000497018 * Math.cos(0.10277515742 + 198.82818395289 * t);
-        Y1 += 0.00000476930 * Math.cos(4.32981816387 + 1692.40948698591 * t);
-        Y1 += 0.00000499703 * Math.cos(1.45009748987 + 330.8627811417 * t);
-        Y1 += 0.00000383795 * Math.cos(0.60109464211 + 1073.85284167431 * t);
-        Y1 += 0.00000504945 * Math.cos(1.16897764893 + 1059.1381127057 * t);
-        Y1 += 0.00000402231 * Math.cos(4.64005130261 + 1479.11039154791 * t);
-        Y1 += 0.00000373538 * Math.cos(6.00201753992 + 729.0067840145 * t);
-        Y1 += 0.00000349467 * Math.cos(4.67892334070 + 426.3543733925 * t);
-        Y1 += 0.00000316847 * Math.cos(0.54679906466 + 839.2131052339 * t);
-        Y1 += 0.00000324562 * Math.cos(4.14050846767 + 206.42936592071 * t);
-        Y1 += 0.00000246849 * Math.cos(5.67682031680 + 838.72547026689 * t);
-        Y1 += 0.00000255191 * Math.cos(5.19686775170 + 412.12727939089 * t);
-        Y1 += 0.00000230121 * Math.cos(1.15174981889 + 508.5941415757 * t);
-        Y1 += 0.00000246851 * Math.cos(0.17931647320 + 1272.9248431107 * t);
-        Y1 += 0.00000222270 * Math.cos(1.13623310093 + 412.6149143579 * t);
-        Y1 += 0.00000213383 * Math.cos(1.33041208002 + 1376.0176173293 * t);
-        Y1 += 0.00000225567 * Math.cos(0.71754067098 + 625.42637482889 * t);
-        Y1 += 0.00000212049 * Math.cos(1.46978417946 + 3.42521122121 * t);
-        Y1 += 0.00000181234 * Math.cos(2.07915113995 + 1368.9040703285 * t);
-        Y1 += 0.00000174181 * Math.cos(0.28202074120 + 1062.80714141041 * t);
-        Y1 += 0.00000189391 * Math.cos(5.86988015498 + 2648.6986429565 * t);
-        Y1 += 0.00000161119 * Math.cos(1.45320059873 + 519.63984183961 * t);
-        Y1 += 0.00000157874 * Math.cos(3.21673827019 + 536.5606946119 * t);
-        Y1 += 0.00000145420 * Math.cos(1.14766744266 + 1258.6977491091 * t);
-        Y1 += 0.00000144205 * Math.cos(0.51347253517 + 1055.6935944096 * t);
-        Y1 += 0.00000143507 * Math.cos(2.13497084119 + 309.5221401393 * t);
-        Y1 += 0.00000126188 * Math.cos(1.74614874146 + 1063.55790093581 * t);
-        Y1 += 0.00000124788 * Math.cos(0.04973007408 + 551.27542358051 * t);
-        Y1 += 0.00000125329 * Math.cos(6.02678896114 + 540.2297233166 * t);
-        Y1 += 0.00000146669 * Math.cos(1.15255926772 + 1056.444353935 * t);
-        Y1 += 0.00000115893 * Math.cos(1.61083044890 + 2126.1212248627 * t);
-        Y1 += 0.00000124485 * Math.cos(1.74552486835 + 3.6883357796 * t);
-        Y1 += 0.00000118218 * Math.cos(0.09316615671 + 515.2200536095 * t);
-        Y1 += 0.00000114208 * Math.cos(0.48741044761 + 227.77000692311 * t);
-        Y1 += 0.00000113852 * Math.cos(4.27325397298 + 742.74624304909 * t);
-        Y1 += 0.00000144447 * Math.cos(4.51237423492 + 1486.2239385487 * t);
-        Y1 += 0.00000124849 * Math.cos(0.06146296380 + 1575.08961876571 * t);
-        Y1 += 0.00000093951 * Math.cos(5.42064898050 + 1155.1173399235 * t);
-        Y1 += 0.00000100599 * Math.cos(0.45008887739 + 2111.8941308611 * t);
-        Y1 += 0.00000103583 * Math.cos(0.35190071477 + 419.2408263917 * t);
-        Y1 += 0.00000092556 * Math.cos(0.28828088487 + 1699.5230339867 * t);
-        Y1 += 0.00000099479 * Math.cos(1.07544165521 + 301.9209581715 * t);
-        Y1 += 0.00000082832 * Math.cos(6.00125174633 + 441.06910236111 * t);
-        Y1 += 0.00000086688 * Math.cos(0.38035962497 + 941.8182444855 * t);
-        Y1 += 0.00000095969 * Math.cos(3.69584152771 + 102.84895673509 * t);
-        Y1 += 0.00000080324 * Math.cos(5.59950981116 + 1471.9968445471 * t);
-        Y1 += 0.00000102333 * Math.cos(1.61778028756 + 21.5844584859 * t);
-        Y1 += 0.00000078195 * Math.cos(3.52242385121 + 525.26891613211 * t);
-        Y1 += 0.00000074123 * Math.cos(0.00610250389 + 647.25465079831 * t);
-        Y1 += 0.00000079270 * Math.cos(4.84421399324 + 728.5191490475 * t);
-        Y1 += 0.00000074807 * Math.cos(3.95788072941 + 534.6006490241 * t);
-        Y1 += 0.00000087759 * Math.cos(5.73493623659 + 632.5399218297 * t);
-        Y1 += 0.00000069800 * Math.cos(1.23323877527 + 618.8004627951 * t);
-        Y1 += 0.00000060886 * Math.cos(2.49979217695 + 846.3266522347 * t);
-        Y1 += 0.00000058777 * Math.cos(0.68694828546 + 832.0995582331 * t);
-        Y1 += 0.00000061003 * Math.cos(4.67098980984 + 2222.1004520805 * t);
-        Y1 += 0.00000066693 * Math.cos(0.71208583440 + 1685.2959399851 * t);
-        Y1 += 0.00000050999 * Math.cos(4.21005408384 + 2008.8013566425 * t);
-        Y1 += 0.00000050585 * Math.cos(3.18331095946 + 213.5429129215 * t);
-        Y1 += 0.00000045850 * Math.cos(5.81161674510 + 831.6119232661 * t);
-        Y1 += 0.00000052339 * Math.cos(6.09582232771 + 1038.2851066703 * t);
-        Y1 += 0.00000046409 * Math.cos(0.92753148155 + 524.5181566067 * t);
-        Y1 += 0.00000049446 * Math.cos(1.18421196454 + 963.6465204549 * t);
-        Y1 += 0.00000045782 * Math.cos(0.27156151413 + 535.35140854951 * t);
-        Y1 += 0.00000061385 * Math.cos(1.06154014565 + 1795.5022612045 * t);
-        Y1 += 0.00000058958 * Math.cos(4.48450787354 + 316.14805217309 * t);
-        Y1 += 0.00000059833 * Math.cos(2.97158993654 + 4.1759707466 * t);
-        Y1 += 0.00000043525 * Math.cos(5.11993607277 + 149.8070146181 * t);
-        Y1 += 0.00000039973 * Math.cos(3.25434306386 + 1383.13116433011 * t);
-        Y1 += 0.00000053170 * Math.cos(6.26998243842 + 750.3474250169 * t);
-        Y1 += 0.00000039316 * Math.cos(5.15930242259 + 1471.50920958009 * t);
-        Y1 += 0.00000040288 * Math.cos(3.34770952676 + 948.9317914863 * t);
-        Y1 += 0.00000038303 * Math.cos(5.96851436892 + 511.7755353134 * t);
-        Y1 += 0.00000036523 * Math.cos(1.51420379775 + 548.0940298428 * t);
-        Y1 += 0.00000038571 * Math.cos(0.07822093186 + 1258.21011414209 * t);
-        Y1 += 0.00000035601 * Math.cos(1.24662275151 + 10.538758222 * t);
-        Y1 += 0.00000036868 * Math.cos(6.25234770646 + 527.01402127131 * t);
-        Y1 += 0.00000036603 * Math.cos(1.23015836922 + 532.8555438849 * t);
-        Y1 += 0.00000041197 * Math.cos(5.04821165837 + 845.8390172677 * t);
-        Y1 += 0.00000030575 * Math.cos(2.56475167146 + 124.6772327045 * t);
-        Y1 += 0.00000027619 * Math.cos(0.12568890457 + 1802.6158082053 * t);
-        Y1 += 0.00000032289 * Math.cos(0.79016845152 + 618.3128278281 * t);
-        Y1 += 0.00000028470 * Math.cos(4.61927587685 + 1044.9110187041 * t);
-        Y1 += 0.00000025452 * Math.cos(2.91722591057 + 1265.32366114289 * t);
-        Y1 += 0.00000027183 * Math.cos(1.12751765708 + 1898.5950354231 * t);
-        Y1 += 0.00000022512 * Math.cos(2.01936139354 + 639.6534688305 * t);
-        Y1 += 0.00000022622 * Math.cos(4.89596842874 + 935.19233245171 * t);
-        Y1 += 0.00000024508 * Math.cos(2.13953774929 + 1361.79052332771 * t);
-        Y1 += 0.00000025260 * Math.cos(0.24154081456 + 540.98048284201 * t);
-        Y1 += 0.00000020677 * Math.cos(5.55082476196 + 1148.00379292269 * t);
-        Y1 += 0.00000028190 * Math.cos(1.50681890023 + 1905.70858242391 * t);
-        Y1 += 0.00000020297 * Math.cos(5.38737168791 + 1162.23088692429 * t);
-        Y1 += 0.00000025685 * Math.cos(3.12279377202 + 735.6326960483 * t);
-        Y1 += 0.00000019769 * Math.cos(3.96513942756 + 11.2895177474 * t);
-        Y1 += 0.00000017928 * Math.cos(4.61925187754 + 98.91680347199 * t);
-        Y1 += 0.00000017469 * Math.cos(4.89788003858 + 1787.9010792367 * t);
-        Y1 += 0.00000018703 * Math.cos(6.07505587521 + 1574.6019837987 * t);
-        Y1 += 0.00000018135 * Math.cos(2.36351314755 + 910.0625505381 * t);
-        Y1 += 0.00000017089 * Math.cos(0.99046288782 + 1603.5438067689 * t);
-        Y1 += 0.00000017538 * Math.cos(4.47072594413 + 525.7419968841 * t);
-        Y1 += 0.00000017368 * Math.cos(3.01139967776 + 534.1275682721 * t);
-        Y1 += 0.00000019204 * Math.cos(3.80241402375 + 1375.52998236229 * t);
-        Y1 += 0.00000017455 * Math.cos(4.81942144274 + 76.50988875911 * t);
-        Y1 += 0.00000016153 * Math.cos(5.87162041441 + 99.6675629974 * t);
-        Y1 += 0.00000016460 * Math.cos(0.52556394714 + 1788.38871420371 * t);
-        Y1 += 0.00000015683 * Math.cos(5.56132216427 + 2.9375762542 * t);
-        Y1 += 0.00000016034 * Math.cos(0.27078811588 + 191.7146369521 * t);
-        Y1 += 0.00000015051 * Math.cos(4.36060419796 + 106.0303504728 * t);
-        Y1 += 0.00000014892 * Math.cos(0.20628294896 + 518.8890823142 * t);
-        Y1 += 0.00000015187 * Math.cos(1.36377743780 + 1588.82907780029 * t);
-        Y1 += 0.00000017388 * Math.cos(2.86695466117 + 18.40306474821 * t);
-        Y1 += 0.00000014796 * Math.cos(0.49390360799 + 1049.3308069342 * t);
-        Y1 += 0.00000015408 * Math.cos(2.49538144956 + 106.5179854398 * t);
-        Y1 += 0.00000017378 * Math.cos(2.04232991369 + 88.6218627335 * t);
-        Y1 += 0.00000013474 * Math.cos(2.61179172644 + 1581.7155307995 * t);
-        Y1 += 0.00000013574 * Math.cos(5.60777906786 + 106.7811099982 * t);
-        Y1 += 0.00000017733 * Math.cos(1.96265517830 + 860.55374623631 * t);
-        Y1 += 0.00000014099 * Math.cos(0.49552041586 + 934.70469748469 * t);
-        Y1 += 0.00000014690 * Math.cos(1.28998048526 + 337.9763281425 * t);
-        Y1 += 0.00000011717 * Math.cos(6.21548749349 + 3178.38960805111 * t);
-        Y1 += 0.00000010988 * Math.cos(0.56913717361 + 2214.98690507971 * t);
-        Y1 += 0.00000010909 * Math.cos(1.73441772451 + 1052.02456570489 * t);
-        Y1 += 0.00000011465 * Math.cos(4.40816469502 + 1361.3028883607 * t);
-        Y1 += 0.00000010506 * Math.cos(0.08856023326 + 2104.7805838603 * t);
-        Y1 += 0.00000012808 * Math.cos(3.66887031235 + 96.2230447013 * t);
-        Y1 += 0.00000013402 * Math.cos(6.17284814260 + 721.8932370137 * t);
-        Y1 += 0.00000010003 * Math.cos(5.29029166259 + 1464.3956625793 * t);
-        Y1 += 0.00000011029 * Math.cos(3.18683769269 + 604.7163811454 * t);
-        Y1 += 0.00000009807 * Math.cos(3.81416991065 + 107.2687449652 * t);
-        Y1 += 0.00000011312 * Math.cos(2.62059931029 + 220.16882495529 * t);
-        Y1 += 0.00000010028 * Math.cos(3.94766287245 + 497.69145366371 * t);
-        Y1 += 0.00000009515 * Math.cos(5.77311274657 + 1890.9938534553 * t);
-        Y1 += 0.00000010988 * Math.cos(5.26272329530 + 2015.9149036433 * t);
-        Y1 += 0.00000010134 * Math.cos(0.68933796308 + 1592.498106505 * t);
-        Y1 += 0.00000008954 * Math.cos(0.87046855862 + 10.8018827804 * t);
-        Y1 += 0.00000008739 * Math.cos(4.67223251717 + 91.8032564712 * t);
-        Y1 += 0.00000008399 * Math.cos(0.82244069816 + 1148.49142788971 * t);
-        Y1 += 0.00000008408 * Math.cos(0.96591596781 + 1585.38455950421 * t);
-        Y1 += 0.00000009230 * Math.cos(3.53443422146 + 562.1781114925 * t);
-        Y1 += 0.00000008186 * Math.cos(4.64550130925 + 2104.2929488933 * t);
-        Y1 += 0.00000008259 * Math.cos(2.22042436652 + 302.40859313851 * t);
-        Y1 += 0.00000009900 * Math.cos(4.65877537869 + 1478.62275658089 * t);
-        Y1 += 0.00000010878 * Math.cos(2.27095143786 + 113.6315324406 * t);
-        Y1 += 0.00000009582 * Math.cos(4.37932327117 + 455.1531840108 * t);
-        Y1 += 0.00000007712 * Math.cos(1.30412279702 + 422.9098550964 * t);
-        Y1 += 0.00000007595 * Math.cos(0.02631225673 + 629.846163059 * t);
-        Y1 += 0.00000008496 * Math.cos(1.04067280887 + 224.5886131854 * t);
-        Y1 += 0.00000007414 * Math.cos(3.60338167449 + 39.1130584317 * t);
-        Y1 += 0.00000007292 * Math.cos(1.12702623915 + 430.02340209721 * t);
-        Y1 += 0.00000007357 * Math.cos(2.07742539313 + 2655.8121899573 * t);
-        Y1 += 0.00000007633 * Math.cos(6.03508479564 + 636.95971005981 * t);
-        Y1 += 0.00000007369 * Math.cos(0.71596086110 + 2229.2139990813 * t);
-        Y1 += 0.00000007258 * Math.cos(2.51814892716 + 423.66061462181 * t);
-        Y1 += 0.00000007648 * Math.cos(0.75719220270 + 2001.68780964171 * t);
-        Y1 += 0.00000008081 * Math.cos(1.31219730813 + 1586.13531902961 * t);
-        Y1 += 0.00000007334 * Math.cos(3.57362648170 + 529.1840230527 * t);
-        Y1 += 0.00000007334 * Math.cos(3.90865182026 + 530.68554210351 * t);
-        Y1 += 0.00000007088 * Math.cos(3.90573080708 + 13.9832765181 * t);
-        Y1 += 0.00000006944 * Math.cos(1.27959676844 + 99.40443843901 * t);
-        Y1 += 0.00000007575 * Math.cos(3.79999823386 + 121.4958389668 * t);
-        Y1 += 0.00000006848 * Math.cos(2.35876258225 + 1898.10740045609 * t);
-        Y1 += 0.00000006870 * Math.cos(5.86252805188 + 1158.78636862821 * t);
-        Y1 += 0.00000006772 * Math.cos(3.50813033017 + 1048.58004740881 * t);
-        Y1 += 0.00000007746 * Math.cos(3.54911383960 + 1691.9218520189 * t);
-        Y1 += 0.00000006468 * Math.cos(5.54893778542 + 1165.89991562901 * t);
-        Y1 += 0.00000006936 * Math.cos(4.92604014284 + 953.3515797164 * t);
-        Y1 += 0.00000006382 * Math.cos(0.76063043397 + 1159.53712815361 * t);
-        Y1 += 0.00000006464 * Math.cos(5.53982453249 + 113.89465699899 * t);
-        Y1 += 0.00000006270 * Math.cos(6.12875427425 + 387.4851324443 * t);
-        Y1 += 0.00000006557 * Math.cos(4.81011230587 + 636.2089505344 * t);
-        Y1 += 0.00000007405 * Math.cos(1.84721590721 + 405.5013673571 * t);
-        Y1 += 0.00000006424 * Math.cos(0.99818860411 + 312.70353387701 * t);
-        Y1 += 0.00000006311 * Math.cos(2.65837067079 + 983.3596763971 * t);
-        Y1 += 0.00000007257 * Math.cos(0.25978556818 + 1251.0965671413 * t);
-        Y1 += 0.00000006999 * Math.cos(3.09774680314 + 323.2615991739 * t);
-        Y1 += 0.00000005842 * Math.cos(0.50538293824 + 1166.6506751544 * t);
-        Y1 += 0.00000006084 * Math.cos(4.51074934327 + 2538.4923217371 * t);
-        Y1 += 0.00000005618 * Math.cos(0.08316456270 + 71.09326278771 * t);
-        Y1 += 0.00000005590 * Math.cos(0.34453029262 + 234.8835539239 * t);
-        Y1 += 0.00000005829 * Math.cos(4.88173947209 + 1041.466500408 * t);
-        Y1 += 0.00000006815 * Math.cos(6.01343806079 + 305.10235190919 * t);
-        Y1 += 0.00000005423 * Math.cos(4.10655824247 + 114.38229196601 * t);
-        Y1 += 0.00000005434 * Math.cos(1.33565656744 + 1251.5842021083 * t);
-        Y1 += 0.00000005984 * Math.cos(1.18424710557 + 319.8170808778 * t);
-        Y1 += 0.00000005352 * Math.cos(0.90568977859 + 415.7963080956 * t);
-        Y1 += 0.00000005826 * Math.cos(1.12913548074 + 1891.4814884223 * t);
-        Y1 += 0.00000005519 * Math.cos(2.07020279444 + 1593.2488660304 * t);
-        Y1 += 0.00000005189 * Math.cos(5.63081007242 + 448.1826493619 * t);
-        Y1 += 0.00000005286 * Math.cos(2.89186635254 + 505.5557601899 * t);
-        Y1 += 0.00000005876 * Math.cos(2.54689905929 + 459.0853372739 * t);
-        Y1 += 0.00000005578 * Math.cos(2.84516685445 + 437.8877086234 * t);
-        Y1 += 0.00000004953 * Math.cos(5.01729407226 + 1780.78753223589 * t);
-        Y1 += 0.00000004928 * Math.cos(3.11188481400 + 199.3158189199 * t);
-        Y1 += 0.00000004972 * Math.cos(4.59041195194 + 554.31380496631 * t);
-        Y1 += 0.00000004889 * Math.cos(4.57426078554 + 117.0760507367 * t);
-        Y1 += 0.00000005942 * Math.cos(1.75505812286 + 512.5262948388 * t);
-        Y1 += 0.00000004807 * Math.cos(0.26863334445 + 494.510059926 * t);
-        Y1 += 0.00000005528 * Math.cos(1.80622642695 + 430.7741616226 * t);
-        Y1 += 0.00000004806 * Math.cos(0.21884952823 + 956.04533848709 * t);
-        Y1 += 0.00000006190 * Math.cos(5.04541957128 + 2751.79141717511 * t);
-        Y1 += 0.00000005306 * Math.cos(0.11969668866 + 1069.92068841121 * t);
-        Y1 += 0.00000004939 * Math.cos(5.49878249966 + 2207.38572311189 * t);
-        Y1 += 0.00000005203 * Math.cos(0.30883580794 + 498.91529394111 * t);
-        Y1 += 0.00000004397 * Math.cos(0.93049026820 + 565.35950523021 * t);
-        Y1 += 0.00000004342 * Math.cos(1.34852955452 + 672.3844327119 * t);
-        Y1 += 0.00000004528 * Math.cos(4.21721444880 + 1677.6947580173 * t);
-        Y1 += 0.00000004334 * Math.cos(1.86306609018 + 611.6869157943 * t);
-        Y1 += 0.00000004608 * Math.cos(5.66110590863 + 679.4979797127 * t);
-        Y1 += 0.00000004812 * Math.cos(0.89025719177 + 560.9542712151 * t);
-        Y1 += 0.00000004305 * Math.cos(1.60213053627 + 1070.6714479366 * t);
-        Y1 += 0.00000004662 * Math.cos(4.62198878885 + 621.98185653281 * t);
-        Y1 += 0.00000004362 * Math.cos(2.38936273723 + 81.50831573269 * t);
-        Y1 += 0.00000004781 * Math.cos(4.94273816108 + 600.7842278823 * t);
-        Y1 += 0.00000004148 * Math.cos(0.34386178190 + 1080.9663886751 * t);
-        Y1 += 0.00000004478 * Math.cos(5.54973564701 + 629.0954035336 * t);
-        Y1 += 0.00000004108 * Math.cos(0.28050115804 + 644.0732570606 * t);
-        Y1 += 0.00000004654 * Math.cos(0.26747143227 + 508.10650660869 * t);
-        Y1 += 0.00000004260 * Math.cos(0.28663615026 + 209.87388421679 * t);
-        Y1 += 0.00000005131 * Math.cos(5.19827010225 + 946.23803271561 * t);
-        Y1 += 0.00000003845 * Math.cos(0.02687662536 + 970.7600674557 * t);
-        Y1 += 0.00000003839 * Math.cos(4.39486053854 + 2420.68481854989 * t);
-        Y1 += 0.00000003898 * Math.cos(4.36796507234 + 1064.29161411871 * t);
-        Y1 += 0.00000004274 * Math.cos(3.88197021297 + 31.9995114309 * t);
-        Y1 += 0.00000003986 * Math.cos(3.61377428858 + 952.60082019101 * t);
-        Y1 += 0.00000003880 * Math.cos(3.72470409125 + 504.8050006645 * t);
-        Y1 += 0.00000005205 * Math.cos(4.22425643960 + 1795.0146262375 * t);
-        Y1 += 0.00000003879 * Math.cos(0.21645781655 + 747.1660312792 * t);
-        Y1 += 0.00000003965 * Math.cos(6.05218850802 + 501.62360692681 * t);
-        Y1 += 0.00000004541 * Math.cos(0.10865029183 + 757.4609720177 * t);
-        Y1 += 0.00000003663 * Math.cos(0.96855107175 + 2318.0796792983 * t);
-        Y1 += 0.00000004938 * Math.cos(1.24113099358 + 294.80741117069 * t);
-        Y1 += 0.00000003643 * Math.cos(3.75757419955 + 555.0645644917 * t);
-        Y1 += 0.00000003850 * Math.cos(0.10927703513 + 835.28095197081 * t);
-        Y1 += 0.00000003693 * Math.cos(1.43008979314 + 558.2459582294 * t);
-        Y1 += 0.00000003818 * Math.cos(3.56284581831 + 2325.1932262991 * t);
-        Y1 += 0.00000003422 * Math.cos(2.09047795615 + 2214.4992701127 * t);
-        Y1 += 0.00000003726 * Math.cos(0.01800308688 + 740.0524842784 * t);
-        Y1 += 0.00000003306 * Math.cos(0.56515315647 + 2641.5850959557 * t);
-        Y1 += 0.00000003331 * Math.cos(1.40804314394 + 501.4805945749 * t);
-        Y1 += 0.00000003289 * Math.cos(3.64076064476 + 1066.2516597065 * t);
-        Y1 += 0.00000004224 * Math.cos(5.65692006690 + 547.34327031741 * t);
-        Y1 += 0.00000003214 * Math.cos(4.63993723371 + 498.4422131891 * t);
-        Y1 += 0.00000003771 * Math.cos(1.62732535851 + 1493.3374855495 * t);
-        Y1 += 0.00000003357 * Math.cos(5.63168758175 + 1272.4372081437 * t);
-        Y1 += 0.00000003469 * Math.cos(1.82151805203 + 1678.1823929843 * t);
-        Y1 += 0.00000003147 * Math.cos(5.15767685182 + 654.3681977991 * t);
-        Y1 += 0.00000003122 * Math.cos(3.69868417138 + 1912.8221294247 * t);
-        Y1 += 0.00000003766 * Math.cos(6.26541380179 + 1567.9760717649 * t);
-        Y1 += 0.00000003766 * Math.cos(6.26541380179 + 1567.48843679789 * t);
-        Y1 += 0.00000003651 * Math.cos(3.33863747697 + 2008.3137216755 * t);
-        Y1 += 0.00000003350 * Math.cos(2.02935185038 + 6276.2061204741 * t);
-        Y1 += 0.00000002969 * Math.cos(2.84234108474 + 561.4273519671 * t);
-        Y1 += 0.00000002926 * Math.cos(0.87762167738 + 824.9860112323 * t);
-        Y1 += 0.00000003251 * Math.cos(1.48662260788 + 6290.4332144757 * t);
-        Y1 += 0.00000003134 * Math.cos(3.45182421255 + 10206.4158166937 * t);
-        Y1 += 0.00000003154 * Math.cos(1.31710977614 + 483.4643596621 * t);
-        Y1 += 0.00000002968 * Math.cos(0.95734389320 + 597.60283414461 * t);
-        Y1 += 0.00000003023 * Math.cos(3.68954971021 + 938.3737261894 * t);
-        Y1 += 0.00000003496 * Math.cos(3.80583016563 + 1054.9598812267 * t);
-        Y1 += 0.00000002718 * Math.cos(5.83851172606 + 1151.6728216274 * t);
-        Y1 += 0.00000003041 * Math.cos(2.90965702851 + 10220.6429106953 * t);
-        Y1 += 0.00000002652 * Math.cos(6.21650349274 + 960.4651267172 * t);
-        Y1 += 0.00000002720 * Math.cos(1.00932854817 + 326.9306278786 * t);
-        Y1 += 0.00000002672 * Math.cos(0.80664235757 + 537.7990891043 * t);
-        Y1 += 0.00000002672 * Math.cos(0.39245063721 + 522.0704760519 * t);
-        Y1 += 0.00000002641 * Math.cos(0.36790627076 + 2531.3787747363 * t);
-        Y1 += 0.00000002658 * Math.cos(1.14453224196 + 1062.0734282275 * t);
-        Y1 += 0.00000002567 * Math.cos(4.28770215521 + 415.3086731286 * t);
-        Y1 += 0.00000002847 * Math.cos(1.35125253700 + 1176.9456158929 * t);
-        Y1 += 0.00000002545 * Math.cos(4.77644807792 + 1098.9826235879 * t);
-        Y1 += 0.00000002658 * Math.cos(5.35693010643 + 1057.1780671179 * t);
-        Y1 += 0.00000003084 * Math.cos(2.56963998299 + 320.5678404032 * t);
-        Y1 += 0.00000003075 * Math.cos(6.27507572432 + 462.2667310116 * t);
-        Y1 += 0.00000002804 * Math.cos(6.16567268722 + 576.4052054941 * t);
-        Y1 += 0.00000002606 * Math.cos(5.21906136752 + 2523.7775927685 * t);
-        Y1 += 0.00000003000 * Math.cos(3.65608242169 + 230.3207533419 * t);
-        Y1 += 0.00000002425 * Math.cos(4.09514576387 + 422.42222012939 * t);
-        Y1 += 0.00000002483 * Math.cos(5.26115871401 + 209.12312469139 * t);
-        Y1 += 0.00000002390 * Math.cos(4.78653880453 + 210.36151918381 * t);
-        Y1 += 0.00000002327 * Math.cos(5.56730422259 + 416.059432654 * t);
-        Y1 += 0.00000002797 * Math.cos(0.30753315592 + 2332.3067732999 * t);
-        Y1 += 0.00000002273 * Math.cos(3.32904776610 + 945.48727319021 * t);
-        Y1 += 0.00000002980 * Math.cos(0.57215995151 + 202.760337216 * t);
-        Y1 += 0.00000002267 * Math.cos(4.77704986942 + 2097.1794018925 * t);
-        Y1 += 0.00000002330 * Math.cos(2.61194456361 + 849.5080459724 * t);
-        Y1 += 0.00000002940 * Math.cos(3.89100366694 + 2111.40649589409 * t);
-        Y1 += 0.00000002403 * Math.cos(1.43951577299 + 433.46792039329 * t);
-        Y1 += 0.00000002256 * Math.cos(1.40980672956 + 1054.20912170131 * t);
-        Y1 += 0.00000002203 * Math.cos(4.38408918114 + 217.4750661846 * t);
-        Y1 += 0.00000002189 * Math.cos(3.11420297739 + 1514.53511420 * t);
-        Y1 += 0.00000002120 * Math.cos(5.32964021512 + 423.17297965479 * t);
-        Y1 += 0.00000002093 * Math.cos(2.91578358954 + 543.6742416127 * t);
-        Y1 += 0.00000002373 * Math.cos(3.40448834117 + 536.1545577016 * t);
-        Y1 += 0.00000002373 * Math.cos(4.07778996079 + 523.71500745461 * t);
-        Y1 += 0.00000002040 * Math.cos(1.15053228876 + 988.7763023685 * t);
-        Y1 += 0.00000002105 * Math.cos(1.65182568239 + 1059.5775635629 * t);
-        Y1 += 0.00000002005 * Math.cos(0.23022912919 + 460.7822583033 * t);
-        Y1 += 0.00000001997 * Math.cos(0.01573125874 + 504.66198831261 * t);
-        Y1 += 0.00000002033 * Math.cos(0.46615032885 + 1173.7642221552 * t);
-        Y1 += 0.00000001976 * Math.cos(1.94247006692 + 46.71424039951 * t);
-        Y1 += 0.00000002284 * Math.cos(0.08168640420 + 531.5793139808 * t);
-        Y1 += 0.00000002284 * Math.cos(1.11740659058 + 528.29025117541 * t);
-        Y1 += 0.00000002219 * Math.cos(0.28864854659 + 5230.5636493195 * t);
-        Y1 += 0.00000002084 * Math.cos(3.79495631549 + 490.5779066629 * t);
-        Y1 += 0.00000002020 * Math.cos(3.27527557464 + 568.0678182159 * t);
-        Y1 += 0.00000001939 * Math.cos(0.63756905811 + 1065.0423736441 * t);
-        Y1 += 0.00000001972 * Math.cos(1.10124465701 + 2428.2860005177 * t);
-        Y1 += 0.00000002080 * Math.cos(5.31250252176 + 194.89603068979 * t);
-        Y1 += 0.00000001994 * Math.cos(1.00933853256 + 749.8597900499 * t);
-        Y1 += 0.00000001905 * Math.cos(1.94076118880 + 1077.7849949374 * t);
-        Y1 += 0.00000001909 * Math.cos(4.29377156648 + 2737.0766882065 * t);
-        Y1 += 0.00000001874 * Math.cos(1.18336173856 + 555.2075768436 * t);
-        Y1 += 0.00000002388 * Math.cos(2.65748069414 + 334.7949344048 * t);
-        Y1 += 0.00000002111 * Math.cos(0.80588667765 + 5216.33655531789 * t);
-        Y1 += 0.00000002086 * Math.cos(1.74158554893 + 1062.5465089795 * t);
-        Y1 += 0.00000002063 * Math.cos(1.71239799040 + 9160.77334553909 * t);
-        Y1 += 0.00000001930 * Math.cos(0.74728387158 + 2207.8733580789 * t);
-        Y1 += 0.00000001877 * Math.cos(0.19967253757 + 732.93893727761 * t);
-        Y1 += 0.00000001836 * Math.cos(4.07130877335 + 1994.08662767389 * t);
-        Y1 += 0.00000001907 * Math.cos(6.06525003405 + 824.4983762653 * t);
-        Y1 += 0.00000001819 * Math.cos(4.11575405255 + 491.8017469403 * t);
-        Y1 += 0.00000001892 * Math.cos(3.68926102357 + 569.29165849331 * t);
-        Y1 += 0.00000001770 * Math.cos(2.86237801037 + 842.3944989716 * t);
-        Y1 += 0.00000001786 * Math.cos(3.68832273420 + 327.68138740401 * t);
-        Y1 += 0.00000001761 * Math.cos(1.39220218514 + 67.424234083 * t);
-        Y1 += 0.00000001872 * Math.cos(2.05384799126 + 1169.34443392509 * t);
-        Y1 += 0.00000001951 * Math.cos(5.91395025443 + 142.6934676173 * t);
-        Y1 += 0.00000001737 * Math.cos(5.04430948440 + 202.0095776906 * t);
-        Y1 += 0.00000001965 * Math.cos(2.22844080314 + 9146.54625153749 * t);
-        Y1 += 0.00000001703 * Math.cos(1.79561638802 + 2530.8911397693 * t);
-        Y1 += 0.00000001717 * Math.cos(1.56523864144 + 380.37158544351 * t);
-        Y1 += 0.00000001684 * Math.cos(0.96892569776 + 599.0873068529 * t);
-        Y1 += 0.00000001669 * Math.cos(0.56251586275 + 2634.47154895491 * t);
-        Y1 += 0.00000001707 * Math.cos(3.13360819218 + 92.2908914382 * t);
-        Y1 += 0.00000001666 * Math.cos(4.51582119325 + 1058.66253982621 * t);
-        Y1 += 0.00000002249 * Math.cos(1.89939977026 + 852.9525642685 * t);
-        Y1 += 0.00000002105 * Math.cos(4.84963681002 + 1059.67393178251 * t);
-        Y1 += 0.00000001971 * Math.cos(5.97456261468 + 1883.8803064545 * t);
-        Y1 += 0.00000001682 * Math.cos(5.05358209402 + 1905.2209474569 * t);
-        Y1 += 0.00000001591 * Math.cos(1.71258004064 + 2435.3995475185 * t);
-        Y1 += 0.00000001870 * Math.cos(4.91045755022 + 739.30172475301 * t);
-        Y1 += 0.00000001831 * Math.cos(0.23036450981 + 405.0137323901 * t);
-        Y1 += 0.00000001741 * Math.cos(3.87703465673 + 1280.0383901115 * t);
-        Y1 += 0.00000001437 * Math.cos(0.15153485897 + 1056.7049863659 * t);
-        Y1 += 0.00000001666 * Math.cos(1.98564123475 + 1060.5889555192 * t);
-        Y1 += 0.00000001646 * Math.cos(3.31965590226 + 299.37021175271 * t);
-        Y1 += 0.00000001423 * Math.cos(5.06681929129 + 1464.8832975463 * t);
-        Y1 += 0.00000001879 * Math.cos(5.78203740511 + 531.4192552864 * t);
-        Y1 += 0.00000001879 * Math.cos(1.70024089685 + 528.4503098698 * t);
-        Y1 += 0.00000001460 * Math.cos(1.42660733495 + 1269.743449373 * t);
-        Y1 += 0.00000001684 * Math.cos(0.90643601570 + 1364.9719170654 * t);
-        Y1 += 0.00000001453 * Math.cos(1.55271946857 + 526.2657538734 * t);
-        Y1 += 0.00000001700 * Math.cos(4.86312330636 + 725.0746307514 * t);
-        Y1 += 0.00000001360 * Math.cos(1.93936734070 + 917.1760975389 * t);
-        Y1 += 0.00000001426 * Math.cos(4.95337494898 + 2840.1694624251 * t);
-        Y1 += 0.00000001498 * Math.cos(3.83211973659 + 1134.40734624 * t);
-        Y1 += 0.00000001410 * Math.cos(4.97053896796 + 1091.86907658711 * t);
-        Y1 += 0.00000001520 * Math.cos(5.37749544795 + 977.7306021046 * t);
-        Y1 += 0.00000001747 * Math.cos(3.17984072825 + 2324.70559133209 * t);
-        Y1 += 0.00000001288 * Math.cos(3.95858951452 + 732.1881777522 * t);
-        Y1 += 0.00000001713 * Math.cos(3.60652551663 + 2427.7983655507 * t);
-        Y1 += 0.00000001282 * Math.cos(5.53618260525 + 1475.1782382848 * t);
-        Y1 += 0.00000001517 * Math.cos(1.63411439321 + 1439.75351563271 * t);
-        Y1 += 0.00000001271 * Math.cos(4.19498605517 + 843.145258497 * t);
-        Y1 += 0.00000001308 * Math.cos(5.87705324776 + 558.3889705813 * t);
-        Y1 += 0.00000001677 * Math.cos(0.97487380844 + 611.1992808273 * t);
-        Y1 += 0.00000001256 * Math.cos(4.41755923055 + 2854.8841913937 * t);
-        Y1 += 0.00000001366 * Math.cos(3.14960813536 + 1446.8670626335 * t);
-        Y1 += 0.00000001435 * Math.cos(4.97960275859 + 991.9576961062 * t);
-        Y1 += 0.00000001144 * Math.cos(5.29122600369 + 1482.2917852856 * t);
-        Y1 += 0.00000001142 * Math.cos(4.39466768970 + 408.19512612779 * t);
-        Y1 += 0.00000001147 * Math.cos(5.28949177860 + 3068.1832868317 * t);
-        Y1 += 0.00000001501 * Math.cos(5.53595039529 + 75.0254160508 * t);
-        Y1 += 0.00000001226 * Math.cos(3.45697923185 + 1141.3778808889 * t);
-        Y1 += 0.00000001323 * Math.cos(5.16542134486 + 284.39235822571 * t);
-        Y1 += 0.00000001150 * Math.cos(5.21811270268 + 430.2865266556 * t);
-        Y1 += 0.00000001292 * Math.cos(1.65611589428 + 1994.5742626409 * t);
-        Y1 += 0.00000001226 * Math.cos(2.47910206722 + 372.77040347569 * t);
-        Y1 += 0.00000001132 * Math.cos(3.62425240134 + 1063.8185333667 * t);
-        Y1 += 0.00000001079 * Math.cos(0.26090286718 + 1483.042544811 * t);
-        Y1 += 0.00000001111 * Math.cos(4.66761037682 + 2413.5712715491 * t);
-        Y1 += 0.00000001252 * Math.cos(5.77247306070 + 473.31243127551 * t);
-        Y1 += 0.00000001242 * Math.cos(2.94913211429 + 539.4960101337 * t);
-        Y1 += 0.00000001242 * Math.cos(1.39155353408 + 520.37355502251 * t);
-        Y1 += 0.00000001169 * Math.cos(1.94705823334 + 386.9974974773 * t);
-        Y1 += 0.00000001003 * Math.cos(1.46144081160 + 216.9874312176 * t);
-        Y1 += 0.00000001030 * Math.cos(3.78515085968 + 850.25880549781 * t);
-        Y1 += 0.00000001165 * Math.cos(1.66344587729 + 2758.9049641759 * t);
-        Y1 += 0.00000000984 * Math.cos(3.96978325817 + 522.7730514675 * t);
-        Y1 += 0.00000000984 * Math.cos(0.37090239019 + 537.09651368871 * t);
-        Y1 += 0.00000001015 * Math.cos(5.23058664749 + 451.2210307477 * t);
-        Y1 += 0.00000001310 * Math.cos(2.45586682061 + 1354.6769763269 * t);
-        Y1 += 0.00000001121 * Math.cos(2.24397477114 + 4164.0681721295 * t);
-        Y1 += 0.00000000956 * Math.cos(0.45045343285 + 2950.8634186115 * t);
-        Y1 += 0.00000000940 * Math.cos(5.04866396759 + 39.6006933987 * t);
-        Y1 += 0.00000000949 * Math.cos(0.52248659569 + 1475.9289978102 * t);
-        Y1 += 0.00000000992 * Math.cos(1.30939511951 + 1969.4444807273 * t);
-        Y1 += 0.00000000935 * Math.cos(3.89177610875 + 3053.46855786309 * t);
-        Y1 += 0.00000001085 * Math.cos(1.70979702342 + 586.5571338807 * t);
-        Y1 += 0.00000000901 * Math.cos(1.38326808068 + 248.9676355736 * t);
-        Y1 += 0.00000000894 * Math.cos(1.47962768735 + 2847.28300942589 * t);
-        Y1 += 0.00000000948 * Math.cos(4.80656003236 + 2221.6128171135 * t);
-        Y1 += 0.00000000923 * Math.cos(0.00868868373 + 2421.1724535169 * t);
-        Y1 += 0.00000001070 * Math.cos(5.69849027842 + 2200.2721761111 * t);
-        Y1 += 0.00000001169 * Math.cos(2.53153449921 + 100.4012761803 * t);
-        Y1 += 0.00000001005 * Math.cos(3.63845316069 + 1432.6399686319 * t);
-        Y1 += 0.00000001017 * Math.cos(3.67405924039 + 8094.2778683491 * t);
-        Y1 += 0.00000000984 * Math.cos(3.45627656974 + 537.0001454691 * t);
-        Y1 += 0.00000000984 * Math.cos(0.88440907863 + 522.8694196871 * t);
-        Y1 += 0.00000001118 * Math.cos(1.42327440603 + 416.547067621 * t);
-        Y1 += 0.00000000914 * Math.cos(5.81575314491 + 1140.8902459219 * t);
-        Y1 += 0.00000000977 * Math.cos(1.34926302993 + 312.9666584354 * t);
-        Y1 += 0.00000000840 * Math.cos(0.85450942681 + 1579.0217720288 * t);
-        Y1 += 0.00000000891 * Math.cos(0.04963060055 + 486.64575339981 * t);
-        Y1 += 0.00000000849 * Math.cos(0.94811547267 + 834.7933170038 * t);
-        Y1 += 0.00000000926 * Math.cos(2.63549295580 + 532.6285413488 * t);
-        Y1 += 0.00000000832 * Math.cos(2.25169167762 + 608.64853440851 * t);
-        Y1 += 0.00000000975 * Math.cos(3.40649349112 + 21.0968235189 * t);
-        Y1 += 0.00000000794 * Math.cos(5.26516657623 + 1791.5701079414 * t);
-        Y1 += 0.00000001006 * Math.cos(1.72593750499 + 2310.9661322975 * t);
-        Y1 += 0.00000000825 * Math.cos(1.82039899833 + 8616.85528644289 * t);
-        Y1 += 0.00000000827 * Math.cos(0.54227509993 + 2545.6058687379 * t);
-        Y1 += 0.00000000955 * Math.cos(1.09478150456 + 760.01171843649 * t);
-        Y1 += 0.00000000955 * Math.cos(4.23637415815 + 760.4993534035 * t);
-        Y1 += 0.00000000936 * Math.cos(1.28100839064 + 155.53915477459 * t);
-        Y1 += 0.00000000779 * Math.cos(0.26183378572 + 1792.3208674668 * t);
-        Y1 += 0.00000000766 * Math.cos(0.71363802237 + 3811.1733473643 * t);
-        Y1 += 0.00000000773 * Math.cos(3.84885148203 + 738.814089786 * t);
-        Y1 += 0.00000000788 * Math.cos(5.43030953147 + 732.45130231059 * t);
-        Y1 += 0.00000000801 * Math.cos(3.05581987419 + 77204.08367704989 * t);
-        Y1 += 0.00000000937 * Math.cos(6.26646142496 + 297.9888049084 * t);
-        Y1 += 0.00000000779 * Math.cos(3.79015371961 + 538.0115374254 * t);
-        Y1 += 0.00000000779 * Math.cos(0.55053192876 + 521.8580277308 * t);
-        Y1 += 0.00000000755 * Math.cos(2.10425922159 + 8631.0823804445 * t);
-        Y1 += 0.00000000743 * Math.cos(3.49834818410 + 1060.1470125345 * t);
-        Y1 += 0.00000000790 * Math.cos(3.19521603309 + 902.94900353731 * t);
-        Y1 += 0.00000000897 * Math.cos(1.19433126461 + 1485.7363035817 * t);
-        Y1 += 0.00000000991 * Math.cos(3.33499486125 + 2744.1902352073 * t);
-        Y1 += 0.00000000740 * Math.cos(5.64369354959 + 277.2788112249 * t);
-        Y1 += 0.00000000780 * Math.cos(5.38986403689 + 606.2008538537 * t);
-        Y1 += 0.00000000738 * Math.cos(1.96155322417 + 4856.32818355191 * t);
-        Y1 += 0.00000000799 * Math.cos(1.14946240957 + 573.2238117564 * t);
-        Y1 += 0.00000000802 * Math.cos(2.35697578389 + 984.8441491054 * t);
-        Y1 += 0.00000000761 * Math.cos(0.74324276764 + 2744.6778701743 * t);
-        Y1 += 0.00000000735 * Math.cos(3.91525398793 + 4650.1426351147 * t);
-        Y1 += 0.00000000721 * Math.cos(3.82827689917 + 731.70054278519 * t);
-        Y1 += 0.00000000850 * Math.cos(2.33025907115 + 775.4772069305 * t);
-        Y1 += 0.00000000717 * Math.cos(5.22051515031 + 5746.0275204125 * t);
-        Y1 += 0.00000000754 * Math.cos(3.01162160350 + 202.4972126576 * t);
-        Y1 += 0.00000000787 * Math.cos(1.45241015286 + 320.0802054362 * t);
-        Y1 += 0.00000000739 * Math.cos(4.25049662100 + 967.57867371801 * t);
-        Y1 += 0.00000000744 * Math.cos(0.24478158041 + 2847.77064439291 * t);
-        Y1 += 0.00000000684 * Math.cos(5.02015802407 + 1798.68365494221 * t);
-        Y1 += 0.00000000700 * Math.cos(4.52571213685 + 572.473052231 * t);
-        Y1 += 0.00000000700 * Math.cos(2.95656616511 + 487.3965129252 * t);
-        Y1 += 0.00000000690 * Math.cos(1.37931038856 + 2118.5200428949 * t);
-        Y1 += 0.00000000670 * Math.cos(2.76522726571 + 245.2986068689 * t);
-        Y1 += 0.00000000668 * Math.cos(5.20188694033 + 739.5648493114 * t);
-        Y1 += 0.00000000667 * Math.cos(5.58822887801 + 1013.1553247567 * t);
-        Y1 += 0.00000000762 * Math.cos(0.14158644002 + 9153.6597985383 * t);
-        Y1 += 0.00000000711 * Math.cos(4.68249485250 + 3156.5613320817 * t);
-        Y1 += 0.00000000679 * Math.cos(5.25016144281 + 24498.58642880689 * t);
-        Y1 += 0.00000000729 * Math.cos(4.80734453852 + 4547.04986089611 * t);
-        Y1 += 0.00000000692 * Math.cos(4.62037992194 + 5062.5137319891 * t);
-        Y1 += 0.00000000649 * Math.cos(6.27552774113 + 1799.4344144676 * t);
-        Y1 += 0.00000000677 * Math.cos(2.25267578062 + 10.051123255 * t);
-        Y1 += 0.00000000784 * Math.cos(5.42419314811 + 3281.4823822697 * t);
-        Y1 += 0.00000000733 * Math.cos(2.27993558439 + 453.66871130251 * t);
-        Y1 += 0.00000000643 * Math.cos(4.14281979615 + 2310.4784973305 * t);
-        Y1 += 0.00000000658 * Math.cos(1.58035282058 + 305.85311143459 * t);
-        Y1 += 0.00000000784 * Math.cos(2.49180999721 + 74.53778108379 * t);
-        Y1 += 0.00000000704 * Math.cos(5.13288018853 + 5165.60650620771 * t);
-        Y1 += 0.00000000648 * Math.cos(0.46023761646 + 1382.64352936309 * t);
-        Y1 += 0.00000000786 * Math.cos(4.88358448252 + 1290.19031849811 * t);
-        Y1 += 0.00000000844 * Math.cos(6.14413478231 + 312.21589891 * t);
-        Y1 += 0.00000000703 * Math.cos(4.75268520401 + 2288.1002260279 * t);
-        Y1 += 0.00000000703 * Math.cos(5.25408808776 + 2273.8731320263 * t);
-        Y1 += 0.00000000797 * Math.cos(2.87597815652 + 2641.0974609887 * t);
-        Y1 += 0.00000000635 * Math.cos(2.14518246830 + 397.9001853893 * t);
-        Y1 += 0.00000000607 * Math.cos(1.30612000311 + 1689.2280932482 * t);
-        Y1 += 0.00000000626 * Math.cos(0.39224578590 + 2524.2652277355 * t);
-        Y1 += 0.00000000636 * Math.cos(4.99095278095 + 511.2879003464 * t);
-        Y1 += 0.00000000613 * Math.cos(0.56214188686 + 1037.7974717033 * t);
-        Y1 += 0.00000000614 * Math.cos(3.18089955415 + 2957.9769656123 * t);
-        Y1 += 0.00000000747 * Math.cos(5.14974622689 + 5223.4501023187 * t);
-        Y1 += 0.00000000606 * Math.cos(0.77338936404 + 1751.2957139325 * t);
-        Y1 += 0.00000000779 * Math.cos(4.30366040804 + 523.7844434238 * t);
-        Y1 += 0.00000000779 * Math.cos(0.03702524033 + 536.08512173241 * t);
-        Y1 += 0.00000000607 * Math.cos(1.35240171145 + 2133.2347718635 * t);
-        Y1 += 0.00000000744 * Math.cos(6.04795940886 + 643.32249753521 * t);
-        Y1 += 0.00000000697 * Math.cos(0.66536766751 + 1354.18934135989 * t);
-        Y1 += 0.00000000669 * Math.cos(3.25849716631 + 5069.6272789899 * t);
-        Y1 += 0.00000000762 * Math.cos(1.79392292274 + 1262.6299023722 * t);
-        Y1 += 0.00000000765 * Math.cos(0.61378577745 + 927.5911504839 * t);
-        Y1 += 0.00000000720 * Math.cos(1.48952280347 + 3075.2968338325 * t);
-        Y1 += 0.00000000573 * Math.cos(5.97535724360 + 394.5986794451 * t);
-        Y1 += 0.00000000634 * Math.cos(6.09733077732 + 470.1310375378 * t);
-        Y1 += 0.00000000559 * Math.cos(0.92745429765 + 445.00125562421 * t);
-        Y1 += 0.00000000671 * Math.cos(4.72931368260 + 454.6655490438 * t);
-        Y1 += 0.00000000755 * Math.cos(1.43187121540 + 105.2966372899 * t);
-        Y1 += 0.00000000567 * Math.cos(5.33251485606 + 1887.5493351592 * t);
-        Y1 += 0.00000000593 * Math.cos(5.99788761622 + 842.65762352999 * t);
-        Y1 += 0.00000000564 * Math.cos(2.51973397119 + 1127.2937992392 * t);
-        Y1 += 0.00000000547 * Math.cos(0.43054759456 + 4127.5652170209 * t);
-        Y1 += 0.00000000624 * Math.cos(2.95261781250 + 25035.39094090229 * t);
-        Y1 += 0.00000000545 * Math.cos(6.09691062396 + 810.90192958261 * t);
-        Y1 += 0.00000000641 * Math.cos(1.20453451725 + 305.5899868762 * t);
-        Y1 += 0.00000000593 * Math.cos(1.40845707752 + 1063.0702659688 * t);
-        Y1 += 0.00000000574 * Math.cos(0.22531417131 + 1699.0353990197 * t);
-        Y1 += 0.00000000616 * Math.cos(3.45400333076 + 25021.16384690069 * t);
-        Y1 += 0.00000000721 * Math.cos(2.41192409328 + 1819.8812835927 * t);
-        Y1 += 0.00000000537 * Math.cos(1.85187456995 + 782.59075393131 * t);
-        Y1 += 0.00000000597 * Math.cos(4.07180274826 + 379.8839504765 * t);
-        Y1 += 0.00000000543 * Math.cos(3.12698436492 + 216.72430665921 * t);
-        Y1 += 0.00000000552 * Math.cos(0.25020791353 + 1268.9926898476 * t);
-        Y1 += 0.00000000534 * Math.cos(6.16996002402 + 437.136949098 * t);
-        Y1 += 0.00000000588 * Math.cos(5.43198241681 + 460.2946233363 * t);
-        Y1 += 0.00000000524 * Math.cos(4.47141172676 + 518.40144734719 * t);
-        Y1 += 0.00000000701 * Math.cos(0.58425032979 + 1670.5812110165 * t);
-        Y1 += 0.00000000632 * Math.cos(5.83508891293 + 4525.7092198937 * t);
-        Y1 += 0.00000000546 * Math.cos(3.16244281187 + 89.10949770051 * t);
-        Y1 += 0.00000000496 * Math.cos(4.51139575372 + 3171.2760610503 * t);
-        Y1 += 0.00000000501 * Math.cos(4.75534479759 + 32.48714639791 * t);
-        Y1 += 0.00000000508 * Math.cos(4.65099599522 + 827.67977000299 * t);
-        Y1 += 0.00000000493 * Math.cos(3.86150271006 + 10022.0810975829 * t);
-        Y1 += 0.00000000550 * Math.cos(5.31707353623 + 2516.66404576769 * t);
-        Y1 += 0.00000000546 * Math.cos(1.38494758910 + 589.7385276184 * t);
-        Y1 += 0.00000000509 * Math.cos(0.35849492381 + 4686.6455902233 * t);
-        Y1 += 0.00000000505 * Math.cos(0.21007516833 + 754.27957828001 * t);
-        Y1 += 0.00000000479 * Math.cos(3.15486072496 + 5223.93773728571 * t);
-        Y1 += 0.00000000461 * Math.cos(2.56623041309 + 1595.9426248011 * t);
-        Y1 += 0.00000000472 * Math.cos(0.95774392273 + 3163.6748790825 * t);
-        Y1 += 0.00000000472 * Math.cos(0.95774392273 + 3164.1625140495 * t);
-        Y1 += 0.00000000509 * Math.cos(5.55791627029 + 69.3963417583 * t);
-        Y1 += 0.00000000546 * Math.cos(0.44435269123 + 2840.6570973921 * t);
-        Y1 += 0.00000000615 * Math.cos(0.32730812757 + 519.15220687259 * t);
-        Y1 += 0.00000000579 * Math.cos(4.02359849872 + 525.514994348 * t);
-        Y1 += 0.00000000455 * Math.cos(5.55680477419 + 1468.06469128401 * t);
-        Y1 += 0.00000000451 * Math.cos(0.27162002670 + 614.868309532 * t);
-        Y1 += 0.00000000451 * Math.cos(4.98348360302 + 2107.96197759801 * t);
-        Y1 += 0.00000000450 * Math.cos(0.83061588531 + 3480.06674873909 * t);
-        Y1 += 0.00000000450 * Math.cos(0.83061588531 + 3480.5543837061 * t);
-        Y1 += 0.00000000447 * Math.cos(6.20310325477 + 3267.2552882681 * t);
-        Y1 += 0.00000000467 * Math.cos(0.09916917853 + 1490.15609181181 * t);
-        Y1 += 0.00000000472 * Math.cos(5.54856635272 + 1457.2821155785 * t);
-        Y1 += 0.00000000462 * Math.cos(5.48144983275 + 26617.8379241523 * t);
-        Y1 += 0.00000000440 * Math.cos(5.31113210528 + 3384.08752152129 * t);
-        Y1 += 0.00000000440 * Math.cos(5.31113210528 + 3384.5751564883 * t);
-        Y1 += 0.00000000453 * Math.cos(4.59459163866 + 9154.1474335053 * t);
-        Y1 += 0.00000000440 * Math.cos(4.77291542298 + 2538.00468677009 * t);
-        Y1 += 0.00000000616 * Math.cos(0.11097190779 + 1560.3748897971 * t);
-        Y1 += 0.00000000437 * Math.cos(3.78589316644 + 4966.5345047713 * t);
-        Y1 += 0.00000000433 * Math.cos(0.72851985281 + 4700.87268422489 * t);
-        Y1 += 0.00000000439 * Math.cos(0.00874316549 + 2108.7127371234 * t);
-        Y1 += 0.00000000452 * Math.cos(3.24655844352 + 1551.1836771295 * t);
-        Y1 += 0.00000000483 * Math.cos(0.54583867389 + 629.35852809199 * t);
-        Y1 += 0.00000000455 * Math.cos(2.09561269155 + 1368.4164353615 * t);
-        Y1 += 0.00000000454 * Math.cos(1.06884234808 + 1884.36794142151 * t);
-        Y1 += 0.00000000476 * Math.cos(2.84297109529 + 3060.5821048639 * t);
-        Y1 += 0.00000000414 * Math.cos(5.93250814925 + 533.37930087419 * t);
-        Y1 += 0.00000000434 * Math.cos(4.40957688009 + 622.2449810912 * t);
-        Y1 += 0.00000000434 * Math.cos(1.26798422650 + 622.7326160582 * t);
-        Y1 += 0.00000000423 * Math.cos(6.09756499780 + 415.04804069769 * t);
-        Y1 += 0.00000000411 * Math.cos(2.21364343296 + 4539.44867892829 * t);
-        Y1 += 0.00000000411 * Math.cos(2.21364343296 + 4539.9363138953 * t);
-        Y1 += 0.00000000507 * Math.cos(2.46156999040 + 3252.5405592995 * t);
-        Y1 += 0.00000000401 * Math.cos(0.60477521531 + 1040.97886544099 * t);
-        Y1 += 0.00000000424 * Math.cos(0.17468685146 + 1254.765595846 * t);
-        Y1 += 0.00000000407 * Math.cos(1.50695117865 + 665.27088571111 * t);
-        Y1 += 0.00000000428 * Math.cos(4.09362449264 + 12036.21691740469 * t);
-        Y1 += 0.00000000487 * Math.cos(4.98974857689 + 1901.7764291608 * t);
-        Y1 += 0.00000000484 * Math.cos(1.19386220714 + 1357.8583700646 * t);
-        Y1 += 0.00000000435 * Math.cos(4.56496977263 + 2729.96314120569 * t);
-        Y1 += 0.00000000435 * Math.cos(1.42337711904 + 2730.45077617271 * t);
-        Y1 += 0.00000000393 * Math.cos(3.70194655878 + 3803.5721653965 * t);
-        Y1 += 0.00000000393 * Math.cos(3.70194655878 + 3804.0598003635 * t);
-        Y1 += 0.00000000396 * Math.cos(2.29672548563 + 1020.2688717575 * t);
-        Y1 += 0.00000000413 * Math.cos(0.90721614242 + 1902.5271886862 * t);
-        Y1 += 0.00000000438 * Math.cos(5.82247234506 + 611.8299281462 * t);
-        Y1 += 0.00000000404 * Math.cos(1.67645195925 + 2042.7416065863 * t);
-        Y1 += 0.00000000412 * Math.cos(4.61028536998 + 4863.4417305527 * t);
-        Y1 += 0.00000000379 * Math.cos(0.15728961892 + 4443.9570866775 * t);
-        Y1 += 0.00000000528 * Math.cos(6.10721110527 + 721.40560204669 * t);
-        Y1 += 0.00000000392 * Math.cos(5.54718824078 + 2001.2001746747 * t);
-        Y1 += 0.00000000379 * Math.cos(0.35077315636 + 9676.23721663209 * t);
-        Y1 += 0.00000000379 * Math.cos(3.49236580995 + 9676.7248515991 * t);
-        Y1 += 0.00000000372 * Math.cos(3.07971309061 + 3273.8812003019 * t);
-        Y1 += 0.00000000372 * Math.cos(3.07971309060 + 3274.36883526891 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 358 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00202462055 * Math.cos(0.59792458091 + 529.9347825781 * t);
-        Y2 += 0.00132313738 * Math.cos(3.89295968796 + 0.2438174835 * t);
-        Y2 += 0.00123752958 * Math.cos(2.55853913064 + 522.8212355773 * t);
-        Y2 += 0.00121682952 * Math.cos(4.91767938901 + 537.0483295789 * t);
-        Y2 += 0.00035719700 * Math.cos(3.45512045921 + 1059.6257476727 * t);
-        Y2 += 0.00011394908 * Math.cos(0.15831191722 + 7.3573644843 * t);
-        Y2 += 0.00007053660 * Math.cos(5.44857872902 + 1066.7392946735 * t);
-        Y2 += 0.00005684733 * Math.cos(2.05222271085 + 1052.51220067191 * t);
-        Y2 += 0.00005262466 * Math.cos(2.69780996624 + 515.70768857651 * t);
-        Y2 += 0.00003815469 * Math.cos(3.98689525353 + 1589.3167127673 * t);
-        Y2 += 0.00003706857 * Math.cos(4.78859671078 + 544.1618765797 * t);
-        Y2 += 0.00001449544 * Math.cos(1.07785028902 + 110.45013870291 * t);
-        Y2 += 0.00001046768 * Math.cos(0.75395840567 + 426.8420083595 * t);
-        Y2 += 0.00001322480 * Math.cos(0.05697677565 + 14.47091148511 * t);
-        Y2 += 0.00000858857 * Math.cos(0.30653313914 + 633.0275567967 * t);
-        Y2 += 0.00000887013 * Math.cos(3.09315872764 + 526.7533888404 * t);
-        Y2 += 0.00000866197 * Math.cos(4.38230951425 + 533.1161763158 * t);
-        Y2 += 0.00000997140 * Math.cos(6.17027795984 + 323.74923414091 * t);
-        Y2 += 0.00000563455 * Math.cos(0.04960726876 + 949.4194264533 * t);
-        Y2 += 0.00000571107 * Math.cos(1.58632661254 + 1045.3986536711 * t);
-        Y2 += 0.00000519207 * Math.cos(4.39249603222 + 526.00262931501 * t);
-        Y2 += 0.00000607942 * Math.cos(1.27749143447 + 736.1203310153 * t);
-        Y2 += 0.00000506922 * Math.cos(3.07709057807 + 533.8669358412 * t);
-        Y2 += 0.00000485331 * Math.cos(3.17541273379 + 109.9625037359 * t);
-        Y2 += 0.00000475072 * Math.cos(5.78207162854 + 529.44714761109 * t);
-        Y2 += 0.00000458270 * Math.cos(5.95238630892 + 1596.43025976811 * t);
-        Y2 += 0.00000418781 * Math.cos(1.04079958107 + 117.5636857037 * t);
-        Y2 += 0.00000525152 * Math.cos(1.98263661840 + 102.84895673509 * t);
-        Y2 += 0.00000374437 * Math.cos(0.84144118564 + 95.7354097343 * t);
-        Y2 += 0.00000412815 * Math.cos(5.04212838870 + 103.3365917021 * t);
-        Y2 += 0.00000320928 * Math.cos(2.67288808735 + 419.72846135871 * t);
-        Y2 += 0.00000322793 * Math.cos(4.41855165225 + 2119.00767786191 * t);
-        Y2 += 0.00000302747 * Math.cos(1.84681315770 + 205.9417309537 * t);
-        Y2 += 0.00000280926 * Math.cos(2.12468407469 + 1582.2031657665 * t);
-        Y2 += 0.00000243003 * Math.cos(1.57275553426 + 625.9140097959 * t);
-        Y2 += 0.00000260213 * Math.cos(2.10127305773 + 956.53297345411 * t);
-        Y2 += 0.00000223206 * Math.cos(5.59326372578 + 433.9555553603 * t);
-        Y2 += 0.00000219874 * Math.cos(0.15087500723 + 942.3058794525 * t);
-        Y2 += 0.00000202904 * Math.cos(5.19995521771 + 220.6564599223 * t);
-        Y2 += 0.00000196744 * Math.cos(4.42883920470 + 1169.83206889211 * t);
-        Y2 += 0.00000171475 * Math.cos(2.19448427444 + 6.86972951729 * t);
-        Y2 += 0.00000195569 * Math.cos(4.41657624168 + 640.1411037975 * t);
-        Y2 += 0.00000165172 * Math.cos(3.71383053394 + 316.6356871401 * t);
-        Y2 += 0.00000163913 * Math.cos(5.23556107603 + 1073.85284167431 * t);
-        Y2 += 0.00000164904 * Math.cos(1.98636179817 + 1155.6049748905 * t);
-        Y2 += 0.00000138497 * Math.cos(2.85820387486 + 508.5941415757 * t);
-        Y2 += 0.00000135640 * Math.cos(1.81977900596 + 198.82818395289 * t);
-        Y2 += 0.00000170382 * Math.cos(6.03512783536 + 330.8627811417 * t);
-        Y2 += 0.00000123801 * Math.cos(3.67192968217 + 743.23387801611 * t);
-        Y2 += 0.00000105922 * Math.cos(1.10242641180 + 853.4401992355 * t);
-        Y2 += 0.00000104749 * Math.cos(2.62023485267 + 522.3336006103 * t);
-        Y2 += 0.00000115508 * Math.cos(2.71991945901 + 309.0345051723 * t);
-        Y2 += 0.00000127421 * Math.cos(1.41853462450 + 729.0067840145 * t);
-        Y2 += 0.00000104374 * Math.cos(0.89194130513 + 213.5429129215 * t);
-        Y2 += 0.00000074731 * Math.cos(4.62028784658 + 551.27542358051 * t);
-        Y2 += 0.00000076056 * Math.cos(2.59067478621 + 1265.81129610991 * t);
-        Y2 += 0.00000084864 * Math.cos(3.26374582961 + 519.63984183961 * t);
-        Y2 += 0.00000085433 * Math.cos(4.07536581059 + 213.0552779545 * t);
-        Y2 += 0.00000070250 * Math.cos(2.97938769876 + 426.3543733925 * t);
-        Y2 += 0.00000070226 * Math.cos(5.88545650951 + 206.42936592071 * t);
-        Y2 += 0.00000065869 * Math.cos(2.26360027552 + 839.2131052339 * t);
-        Y2 += 0.00000062918 * Math.cos(2.84024006922 + 412.6149143579 * t);
-        Y2 += 0.00000067605 * Math.cos(4.19524535793 + 540.2297233166 * t);
-        Y2 += 0.00000071970 * Math.cos(1.76149388570 + 419.2408263917 * t);
-        Y2 += 0.00000053452 * Math.cos(5.96965868749 + 3.42521122121 * t);
-        Y2 += 0.00000052805 * Math.cos(0.64612484946 + 412.12727939089 * t);
-        Y2 += 0.00000055599 * Math.cos(6.19142815990 + 21.5844584859 * t);
-        Y2 += 0.00000046667 * Math.cos(5.06765916310 + 227.77000692311 * t);
-        Y2 += 0.00000048911 * Math.cos(4.88627603894 + 1062.80714141041 * t);
-        Y2 += 0.00000046046 * Math.cos(1.69944877998 + 536.5606946119 * t);
-        Y2 += 0.00000049381 * Math.cos(2.96227489837 + 1162.7185218913 * t);
-        Y2 += 0.00000039853 * Math.cos(2.83106272106 + 1258.6977491091 * t);
-        Y2 += 0.00000038964 * Math.cos(3.82409926208 + 309.5221401393 * t);
-        Y2 += 0.00000038082 * Math.cos(4.25027357628 + 441.06910236111 * t);
-        Y2 += 0.00000032665 * Math.cos(3.07238994770 + 1692.40948698591 * t);
-        Y2 += 0.00000031801 * Math.cos(0.14719940852 + 2126.1212248627 * t);
-        Y2 += 0.00000036510 * Math.cos(2.83147334737 + 1056.444353935 * t);
-        Y2 += 0.00000040831 * Math.cos(1.76738911692 + 1575.08961876571 * t);
-        Y2 += 0.00000031242 * Math.cos(2.99902293895 + 618.8004627951 * t);
-        Y2 += 0.00000032827 * Math.cos(1.87547695506 + 515.2200536095 * t);
-        Y2 += 0.00000028849 * Math.cos(5.03497321398 + 1055.6935944096 * t);
-        Y2 += 0.00000032224 * Math.cos(4.96133890377 + 1272.9248431107 * t);
-        Y2 += 0.00000028682 * Math.cos(1.53844011595 + 1038.2851066703 * t);
-        Y2 += 0.00000029430 * Math.cos(3.21972350654 + 1486.2239385487 * t);
-        Y2 += 0.00000034150 * Math.cos(2.79751290016 + 301.9209581715 * t);
-        Y2 += 0.00000032088 * Math.cos(2.52348716505 + 625.42637482889 * t);
-        Y2 += 0.00000024170 * Math.cos(2.39467034468 + 832.0995582331 * t);
-        Y2 += 0.00000023462 * Math.cos(0.52036917801 + 1059.1381127057 * t);
-        Y2 += 0.00000023622 * Math.cos(2.60159482405 + 742.74624304909 * t);
-        Y2 += 0.00000025413 * Math.cos(3.79378187392 + 1368.9040703285 * t);
-        Y2 += 0.00000025008 * Math.cos(4.81402651995 + 2648.6986429565 * t);
-        Y2 += 0.00000019641 * Math.cos(3.29857408882 + 1063.55790093581 * t);
-        Y2 += 0.00000020824 * Math.cos(4.96156233332 + 1699.5230339867 * t);
-        Y2 += 0.00000018958 * Math.cos(1.33062268278 + 838.72547026689 * t);
-        Y2 += 0.00000019085 * Math.cos(0.27421860784 + 1479.11039154791 * t);
-        Y2 += 0.00000020467 * Math.cos(4.52802295353 + 647.25465079831 * t);
-        Y2 += 0.00000018387 * Math.cos(0.90119440297 + 1471.9968445471 * t);
-        Y2 += 0.00000016332 * Math.cos(0.27219099833 + 728.5191490475 * t);
-        Y2 += 0.00000018784 * Math.cos(1.39830492533 + 735.6326960483 * t);
-        Y2 += 0.00000013140 * Math.cos(0.04984430125 + 1376.0176173293 * t);
-        Y2 += 0.00000014219 * Math.cos(0.85329624536 + 124.6772327045 * t);
-        Y2 += 0.00000012676 * Math.cos(1.25087875699 + 831.6119232661 * t);
-        Y2 += 0.00000012289 * Math.cos(5.75436340555 + 10.538758222 * t);
-        Y2 += 0.00000011203 * Math.cos(1.59407227495 + 511.7755353134 * t);
-        Y2 += 0.00000012667 * Math.cos(5.77688101830 + 963.6465204549 * t);
-        Y2 += 0.00000013805 * Math.cos(2.26287537924 + 2111.8941308611 * t);
-        Y2 += 0.00000010749 * Math.cos(5.88274412057 + 548.0940298428 * t);
-        Y2 += 0.00000012863 * Math.cos(4.47014391443 + 750.3474250169 * t);
-        Y2 += 0.00000012393 * Math.cos(2.34379668336 + 1685.2959399851 * t);
-        Y2 += 0.00000012549 * Math.cos(2.17268947101 + 941.8182444855 * t);
-        Y2 += 0.00000010468 * Math.cos(0.30458009626 + 935.19233245171 * t);
-        Y2 += 0.00000008995 * Math.cos(1.74960944229 + 1383.13116433011 * t);
-        Y2 += 0.00000011159 * Math.cos(2.51015843852 + 618.3128278281 * t);
-        Y2 += 0.00000007631 * Math.cos(5.05979604407 + 632.5399218297 * t);
-        Y2 += 0.00000007503 * Math.cos(5.67188098812 + 1603.5438067689 * t);
-        Y2 += 0.00000007708 * Math.cos(1.95453603914 + 191.7146369521 * t);
-        Y2 += 0.00000007383 * Math.cos(1.13509741924 + 1155.1173399235 * t);
-        Y2 += 0.00000008531 * Math.cos(3.84811863075 + 1361.79052332771 * t);
-        Y2 += 0.00000008011 * Math.cos(5.88118865782 + 337.9763281425 * t);
-        Y2 += 0.00000007223 * Math.cos(3.84606265734 + 88.6218627335 * t);
-        Y2 += 0.00000007778 * Math.cos(1.36850966173 + 1052.02456570489 * t);
-        Y2 += 0.00000007476 * Math.cos(1.59564508061 + 721.8932370137 * t);
-        Y2 += 0.00000005663 * Math.cos(3.52114816133 + 2222.1004520805 * t);
-        Y2 += 0.00000005661 * Math.cos(0.00460945410 + 1044.9110187041 * t);
-        Y2 += 0.00000005318 * Math.cos(0.95938503716 + 1148.00379292269 * t);
-        Y2 += 0.00000004988 * Math.cos(0.39989410631 + 639.6534688305 * t);
-        Y2 += 0.00000005093 * Math.cos(2.58948327756 + 106.0303504728 * t);
-        Y2 += 0.00000006533 * Math.cos(3.48079365390 + 845.8390172677 * t);
-        Y2 += 0.00000006385 * Math.cos(0.35391558166 + 860.55374623631 * t);
-        Y2 += 0.00000004988 * Math.cos(1.41354054180 + 99.6675629974 * t);
-        Y2 += 0.00000005571 * Math.cos(2.81444404460 + 1795.5022612045 * t);
-        Y2 += 0.00000005541 * Math.cos(2.42198547004 + 1049.3308069342 * t);
-        Y2 += 0.00000005247 * Math.cos(1.88295964360 + 1258.21011414209 * t);
-        Y2 += 0.00000004445 * Math.cos(3.79759027615 + 846.3266522347 * t);
-        Y2 += 0.00000003990 * Math.cos(4.74398115700 + 1802.6158082053 * t);
-        Y2 += 0.00000003926 * Math.cos(2.16218108184 + 497.69145366371 * t);
-        Y2 += 0.00000003892 * Math.cos(3.84670029567 + 302.40859313851 * t);
-        Y2 += 0.00000003809 * Math.cos(3.73909928384 + 2.9375762542 * t);
-        Y2 += 0.00000003620 * Math.cos(5.32009722771 + 562.1781114925 * t);
-        Y2 += 0.00000004760 * Math.cos(2.22483727905 + 934.70469748469 * t);
-        Y2 += 0.00000004154 * Math.cos(5.29683004255 + 96.2230447013 * t);
-        Y2 += 0.00000003877 * Math.cos(2.20085136203 + 1375.52998236229 * t);
-        Y2 += 0.00000003522 * Math.cos(3.09584301581 + 501.4805945749 * t);
-        Y2 += 0.00000003445 * Math.cos(2.53099132900 + 1148.49142788971 * t);
-        Y2 += 0.00000003382 * Math.cos(4.89060343280 + 234.8835539239 * t);
-        Y2 += 0.00000003592 * Math.cos(3.66643310344 + 405.5013673571 * t);
-        Y2 += 0.00000003808 * Math.cos(2.35607884579 + 1788.38871420371 * t);
-        Y2 += 0.00000003336 * Math.cos(0.87926034840 + 1471.50920958009 * t);
-        Y2 += 0.00000003758 * Math.cos(0.45509718094 + 113.6315324406 * t);
-        Y2 += 0.00000003174 * Math.cos(3.90621979282 + 448.1826493619 * t);
-        Y2 += 0.00000003698 * Math.cos(1.01340900246 + 220.16882495529 * t);
-        Y2 += 0.00000003101 * Math.cos(3.18331755184 + 316.14805217309 * t);
-        Y2 += 0.00000002746 * Math.cos(4.17978592068 + 81.50831573269 * t);
-        Y2 += 0.00000002816 * Math.cos(4.07738334997 + 2015.9149036433 * t);
-        Y2 += 0.00000002754 * Math.cos(5.70117381714 + 430.02340209721 * t);
-        Y2 += 0.00000002783 * Math.cos(1.81572481299 + 2104.7805838603 * t);
-        Y2 += 0.00000003501 * Math.cos(4.61828326310 + 1069.92068841121 * t);
-        Y2 += 0.00000002580 * Math.cos(2.70735869418 + 98.91680347199 * t);
-        Y2 += 0.00000002605 * Math.cos(3.58250505073 + 611.6869157943 * t);
-        Y2 += 0.00000002955 * Math.cos(5.33795885153 + 1592.498106505 * t);
-        Y2 += 0.00000003418 * Math.cos(0.91402819173 + 1368.4164353615 * t);
-        Y2 += 0.00000002482 * Math.cos(6.19470895878 + 1361.3028883607 * t);
-        Y2 += 0.00000002409 * Math.cos(5.65098301690 + 107.2687449652 * t);
-        Y2 += 0.00000002450 * Math.cos(1.82798028749 + 948.9317914863 * t);
-        Y2 += 0.00000002454 * Math.cos(3.07591757821 + 1251.5842021083 * t);
-        Y2 += 0.00000002443 * Math.cos(0.80546406296 + 1464.3956625793 * t);
-        Y2 += 0.00000002848 * Math.cos(3.22965138097 + 1898.5950354231 * t);
-        Y2 += 0.00000002434 * Math.cos(4.87638273487 + 1080.9663886751 * t);
-        Y2 += 0.00000002240 * Math.cos(1.77459488806 + 629.846163059 * t);
-        Y2 += 0.00000002676 * Math.cos(2.93522198834 + 294.80741117069 * t);
-        Y2 += 0.00000002252 * Math.cos(4.20412336387 + 423.66061462181 * t);
-        Y2 += 0.00000002207 * Math.cos(1.26929749414 + 106.7811099982 * t);
-        Y2 += 0.00000002966 * Math.cos(0.61692584962 + 106.5179854398 * t);
-        Y2 += 0.00000002114 * Math.cos(2.97133804999 + 117.0760507367 * t);
-        Y2 += 0.00000002234 * Math.cos(3.71703805766 + 6276.2061204741 * t);
-        Y2 += 0.00000002232 * Math.cos(6.07586800494 + 6290.4332144757 * t);
-        Y2 += 0.00000002060 * Math.cos(0.61396711293 + 2655.8121899573 * t);
-        Y2 += 0.00000002492 * Math.cos(1.55690527788 + 1574.6019837987 * t);
-        Y2 += 0.00000002405 * Math.cos(3.40255115300 + 1162.23088692429 * t);
-        Y2 += 0.00000002094 * Math.cos(4.26293458943 + 13.9832765181 * t);
-        Y2 += 0.00000001997 * Math.cos(2.59413376987 + 2008.8013566425 * t);
-        Y2 += 0.00000001998 * Math.cos(3.66897172067 + 149.8070146181 * t);
-        Y2 += 0.00000002075 * Math.cos(5.13994005595 + 10206.4158166937 * t);
-        Y2 += 0.00000002073 * Math.cos(1.21558655630 + 10220.6429106953 * t);
-        Y2 += 0.00000001833 * Math.cos(2.60928669023 + 824.9860112323 * t);
-        Y2 += 0.00000001940 * Math.cos(5.08767479418 + 199.3158189199 * t);
-        Y2 += 0.00000001989 * Math.cos(1.62630471057 + 323.2615991739 * t);
-        Y2 += 0.00000001764 * Math.cos(4.69152602347 + 970.7600674557 * t);
-        Y2 += 0.00000002079 * Math.cos(0.16395458213 + 1905.70858242391 * t);
-        Y2 += 0.00000001815 * Math.cos(1.60120314289 + 1265.32366114289 * t);
-        Y2 += 0.00000001815 * Math.cos(4.28784753553 + 558.3889705813 * t);
-        Y2 += 0.00000001819 * Math.cos(3.79124340355 + 1165.89991562901 * t);
-        Y2 += 0.00000002303 * Math.cos(1.95114448415 + 1251.0965671413 * t);
-        Y2 += 0.00000001797 * Math.cos(5.48846817914 + 1585.38455950421 * t);
-        Y2 += 0.00000001785 * Math.cos(2.60041060537 + 1159.53712815361 * t);
-        Y2 += 0.00000001719 * Math.cos(3.18124488238 + 654.3681977991 * t);
-        Y2 += 0.00000002106 * Math.cos(2.00507240636 + 508.10650660869 * t);
-        Y2 += 0.00000001746 * Math.cos(2.85410644796 + 1586.13531902961 * t);
-        Y2 += 0.00000001693 * Math.cos(1.86129406512 + 1691.9218520189 * t);
-        Y2 += 0.00000001560 * Math.cos(2.48952478561 + 2001.68780964171 * t);
-        Y2 += 0.00000001635 * Math.cos(0.62669051313 + 1787.9010792367 * t);
-        Y2 += 0.00000001492 * Math.cos(5.75772456494 + 422.9098550964 * t);
-        Y2 += 0.00000001558 * Math.cos(3.23097345434 + 636.2089505344 * t);
-        Y2 += 0.00000001753 * Math.cos(4.84300262737 + 757.4609720177 * t);
-        Y2 += 0.00000001757 * Math.cos(5.31425455438 + 3178.38960805111 * t);
-        Y2 += 0.00000001411 * Math.cos(4.82184730987 + 956.04533848709 * t);
-        Y2 += 0.00000001925 * Math.cos(1.69879574514 + 1567.9760717649 * t);
-        Y2 += 0.00000001563 * Math.cos(2.82364433424 + 1891.4814884223 * t);
-        Y2 += 0.00000001383 * Math.cos(4.87286586350 + 5230.5636493195 * t);
-        Y2 += 0.00000001393 * Math.cos(2.50410021460 + 1280.0383901115 * t);
-        Y2 += 0.00000001381 * Math.cos(2.51458784132 + 5216.33655531789 * t);
-        Y2 += 0.00000001548 * Math.cos(0.74638079450 + 946.23803271561 * t);
-        Y2 += 0.00000001239 * Math.cos(1.33958827620 + 543.6742416127 * t);
-        Y2 += 0.00000001373 * Math.cos(1.17035918011 + 1890.9938534553 * t);
-        Y2 += 0.00000001198 * Math.cos(5.50480829771 + 326.9306278786 * t);
-        Y2 += 0.00000001220 * Math.cos(5.64182300635 + 319.8170808778 * t);
-        Y2 += 0.00000001357 * Math.cos(5.70946834472 + 2229.2139990813 * t);
-        Y2 += 0.00000001271 * Math.cos(0.01266765679 + 9160.77334553909 * t);
-        Y2 += 0.00000001268 * Math.cos(3.93758835915 + 9146.54625153749 * t);
-        Y2 += 0.00000001183 * Math.cos(1.68810975581 + 636.95971005981 * t);
-        Y2 += 0.00000001254 * Math.cos(6.07103801223 + 433.46792039329 * t);
-        Y2 += 0.00000001180 * Math.cos(0.55156432114 + 1780.78753223589 * t);
-        Y2 += 0.00000001421 * Math.cos(3.61381859664 + 1678.1823929843 * t);
-        Y2 += 0.00000001111 * Math.cos(3.54163507553 + 910.0625505381 * t);
-        Y2 += 0.00000001135 * Math.cos(3.99300516499 + 540.98048284201 * t);
-        Y2 += 0.00000001425 * Math.cos(0.59800839792 + 1684.80830501809 * t);
-        Y2 += 0.00000001101 * Math.cos(0.33268231661 + 518.8890823142 * t);
-        Y2 += 0.00000001052 * Math.cos(0.87116249009 + 1493.3374855495 * t);
-        Y2 += 0.00000000954 * Math.cos(2.13166225661 + 1066.2516597065 * t);
-        Y2 += 0.00000001305 * Math.cos(3.68417944671 + 5223.4501023187 * t);
-        Y2 += 0.00000000932 * Math.cos(1.81701400569 + 952.60082019101 * t);
-        Y2 += 0.00000001152 * Math.cos(4.15622157039 + 3281.4823822697 * t);
-        Y2 += 0.00000001271 * Math.cos(2.91723787442 + 1478.62275658089 * t);
-        Y2 += 0.00000000993 * Math.cos(2.42220158667 + 2427.7983655507 * t);
-        Y2 += 0.00000001202 * Math.cos(1.66398680721 + 1567.48843679789 * t);
-        Y2 += 0.00000000952 * Math.cos(2.83462623397 + 2325.1932262991 * t);
-        Y2 += 0.00000000904 * Math.cos(3.88771946892 + 1158.78636862821 * t);
-        Y2 += 0.00000001185 * Math.cos(2.82656778833 + 2214.98690507971 * t);
-        Y2 += 0.00000000965 * Math.cos(2.41761451411 + 2428.2860005177 * t);
-        Y2 += 0.00000000862 * Math.cos(3.45873513038 + 5753.14106741329 * t);
-        Y2 += 0.00000001183 * Math.cos(0.56670778502 + 953.3515797164 * t);
-        Y2 += 0.00000000858 * Math.cos(5.60347835412 + 749.8597900499 * t);
-        Y2 += 0.00000000857 * Math.cos(5.92079986515 + 1677.6947580173 * t);
-        Y2 += 0.00000000896 * Math.cos(4.05090365368 + 1272.4372081437 * t);
-        Y2 += 0.00000000838 * Math.cos(1.85345325590 + 740.0524842784 * t);
-        Y2 += 0.00000000810 * Math.cos(1.99086557504 + 732.93893727761 * t);
-        Y2 += 0.00000000899 * Math.cos(1.44837834416 + 1581.7155307995 * t);
-        Y2 += 0.00000001107 * Math.cos(1.52991417673 + 1912.8221294247 * t);
-        Y2 += 0.00000001099 * Math.cos(1.63363197193 + 21.0968235189 * t);
-        Y2 += 0.00000000856 * Math.cos(0.26870253693 + 210.36151918381 * t);
-        Y2 += 0.00000000792 * Math.cos(4.88168256779 + 9683.35076363289 * t);
-        Y2 += 0.00000000803 * Math.cos(2.43011635326 + 2641.5850959557 * t);
-        Y2 += 0.00000001013 * Math.cos(0.26382735728 + 852.9525642685 * t);
-        Y2 += 0.00000000790 * Math.cos(2.45929735954 + 1166.6506751544 * t);
-        Y2 += 0.00000000927 * Math.cos(2.40548084691 + 202.760337216 * t);
-        Y2 += 0.00000000955 * Math.cos(2.63053495096 + 611.1992808273 * t);
-        Y2 += 0.00000000848 * Math.cos(1.52904158095 + 824.4983762653 * t);
-        Y2 += 0.00000000721 * Math.cos(3.87768985281 + 4693.75913722409 * t);
-        Y2 += 0.00000000732 * Math.cos(5.25617010486 + 1141.3778808889 * t);
-        Y2 += 0.00000000717 * Math.cos(3.47473573810 + 2538.4923217371 * t);
-        Y2 += 0.00000000764 * Math.cos(1.02089435958 + 3789.8327063619 * t);
-        Y2 += 0.00000000757 * Math.cos(2.29144101005 + 422.42222012939 * t);
-        Y2 += 0.00000000870 * Math.cos(1.70474992020 + 3900.0390275813 * t);
-        Y2 += 0.00000000745 * Math.cos(1.11551269154 + 416.059432654 * t);
-        Y2 += 0.00000000786 * Math.cos(1.87783459546 + 3590.7607049255 * t);
-        Y2 += 0.00000000722 * Math.cos(0.69162917181 + 1809.72935520611 * t);
-        Y2 += 0.00000000731 * Math.cos(1.56640382879 + 2008.3137216755 * t);
-        Y2 += 0.00000000784 * Math.cos(2.40595880647 + 1795.0146262375 * t);
-        Y2 += 0.00000000655 * Math.cos(5.29949669283 + 8623.96883344369 * t);
-        Y2 += 0.00000000859 * Math.cos(4.45239063404 + 459.0853372739 * t);
-        Y2 += 0.00000000787 * Math.cos(3.89498804276 + 1671.06884598351 * t);
-        Y2 += 0.00000000668 * Math.cos(0.46476131572 + 2545.6058687379 * t);
-        Y2 += 0.00000000707 * Math.cos(0.44824026865 + 1169.34443392509 * t);
-        Y2 += 0.00000000679 * Math.cos(0.69182567589 + 1588.82907780029 * t);
-        Y2 += 0.00000000721 * Math.cos(0.46106254321 + 2104.2929488933 * t);
-        Y2 += 0.00000000869 * Math.cos(2.05707977661 + 3576.5336109239 * t);
-        Y2 += 0.00000000878 * Math.cos(5.49426984828 + 75.0254160508 * t);
-        Y2 += 0.00000000883 * Math.cos(2.87549710098 + 3384.5751564883 * t);
-        Y2 += 0.00000000627 * Math.cos(2.60545252272 + 405.0137323901 * t);
-        Y2 += 0.00000000776 * Math.cos(2.36750552228 + 927.5911504839 * t);
-        Y2 += 0.00000000751 * Math.cos(3.92531642097 + 3597.8742519263 * t);
-        Y2 += 0.00000000821 * Math.cos(3.33729170182 + 3487.66793070691 * t);
-        Y2 += 0.00000000603 * Math.cos(2.24262715346 + 2318.0796792983 * t);
-        Y2 += 0.00000000766 * Math.cos(3.89405071692 + 1354.6769763269 * t);
-        Y2 += 0.00000000679 * Math.cos(0.93833494617 + 2207.38572311189 * t);
-        Y2 += 0.00000000820 * Math.cos(4.88672199584 + 6283.3196674749 * t);
-        Y2 += 0.00000000638 * Math.cos(0.90714252231 + 3370.34806248671 * t);
-        Y2 += 0.00000000711 * Math.cos(1.29280470587 + 1883.8803064545 * t);
-        Y2 += 0.00000000666 * Math.cos(1.22953421972 + 3693.8534791441 * t);
-        Y2 += 0.00000000785 * Math.cos(3.49527016473 + 3149.44778508089 * t);
-        Y2 += 0.00000000566 * Math.cos(0.13027536492 + 2861.9977383945 * t);
-        Y2 += 0.00000000781 * Math.cos(1.41485635870 + 3796.94625336271 * t);
-        Y2 += 0.00000000719 * Math.cos(3.02988768028 + 600.7842278823 * t);
-        Y2 += 0.00000000586 * Math.cos(3.97655750409 + 732.45130231059 * t);
-        Y2 += 0.00000000546 * Math.cos(0.87759549299 + 437.8877086234 * t);
-        Y2 += 0.00000000539 * Math.cos(3.39333684490 + 209.12312469139 * t);
-        Y2 += 0.00000000659 * Math.cos(2.59360004759 + 2207.8733580789 * t);
-        Y2 += 0.00000000617 * Math.cos(2.08977841036 + 2744.6778701743 * t);
-        Y2 += 0.00000000617 * Math.cos(2.08977841036 + 2744.1902352073 * t);
-        Y2 += 0.00000000687 * Math.cos(2.15934118066 + 209.87388421679 * t);
-        Y2 += 0.00000000566 * Math.cos(4.70636247947 + 526.2657538734 * t);
-        Y2 += 0.00000000640 * Math.cos(3.60830260468 + 1987.4607156401 * t);
-        Y2 += 0.00000000623 * Math.cos(2.21578255427 + 3274.36883526891 * t);
-        Y2 += 0.00000000623 * Math.cos(2.21578255427 + 3273.8812003019 * t);
-        Y2 += 0.00000000682 * Math.cos(4.78157060479 + 2332.3067732999 * t);
-        Y2 += 0.00000000719 * Math.cos(5.11346846815 + 9153.6597985383 * t);
-        Y2 += 0.00000000547 * Math.cos(0.34236516611 + 2097.1794018925 * t);
-        Y2 += 0.00000000705 * Math.cos(2.59491824208 + 3700.96702614491 * t);
-        Y2 += 0.00000000574 * Math.cos(3.41963712247 + 430.7741616226 * t);
-        Y2 += 0.00000000543 * Math.cos(0.88081760855 + 1457.2821155785 * t);
-        Y2 += 0.00000000693 * Math.cos(0.33025900018 + 2001.2001746747 * t);
-        Y2 += 0.00000000659 * Math.cos(2.96839974316 + 3804.0598003635 * t);
-        Y2 += 0.00000000581 * Math.cos(2.15878783346 + 2111.40649589409 * t);
-        Y2 += 0.00000000540 * Math.cos(6.13903070975 + 2729.96314120569 * t);
-        Y2 += 0.00000000653 * Math.cos(6.09326422469 + 2626.8703669871 * t);
-        Y2 += 0.00000000673 * Math.cos(3.08841787143 + 416.547067621 * t);
-        Y2 += 0.00000000541 * Math.cos(0.97608919869 + 2214.4992701127 * t);
-        Y2 += 0.00000000463 * Math.cos(3.71557681634 + 529.88659846831 * t);
-        Y2 += 0.00000000463 * Math.cos(0.63020265214 + 529.9829666879 * t);
-        Y2 += 0.00000000453 * Math.cos(5.18763231998 + 5753.6287023803 * t);
-        Y2 += 0.00000000499 * Math.cos(1.74748261623 + 2421.1724535169 * t);
-        Y2 += 0.00000000456 * Math.cos(3.28830064335 + 76.50988875911 * t);
-        Y2 += 0.00000000587 * Math.cos(1.13660838990 + 527.4871020233 * t);
-        Y2 += 0.00000000505 * Math.cos(1.06180904724 + 532.6285413488 * t);
-        Y2 += 0.00000000582 * Math.cos(3.20768877862 + 532.3824631329 * t);
-        Y2 += 0.00000000517 * Math.cos(0.69632241122 + 2523.7775927685 * t);
-        Y2 += 0.00000000475 * Math.cos(2.88817124373 + 2531.3787747363 * t);
-        Y2 += 0.00000000433 * Math.cos(0.32149741104 + 621.98185653281 * t);
-        Y2 += 0.00000000530 * Math.cos(3.32159958445 + 512.5262948388 * t);
-        Y2 += 0.00000000530 * Math.cos(1.01908606392 + 547.34327031741 * t);
-        Y2 += 0.00000000478 * Math.cos(3.50052966452 + 1593.2488660304 * t);
-        Y2 += 0.00000000423 * Math.cos(0.32742738106 + 9683.8383985999 * t);
-        Y2 += 0.00000000592 * Math.cos(1.66841184917 + 2324.70559133209 * t);
-        Y2 += 0.00000000410 * Math.cos(4.13116496171 + 2751.30378220809 * t);
-        Y2 += 0.00000000507 * Math.cos(2.10021567641 + 1243.98302014049 * t);
-        Y2 += 0.00000000521 * Math.cos(1.46001387840 + 4216.4308972379 * t);
-        Y2 += 0.00000000458 * Math.cos(4.03023009406 + 629.0954035336 * t);
-        Y2 += 0.00000000508 * Math.cos(3.32555628701 + 1994.5742626409 * t);
-        Y2 += 0.00000000508 * Math.cos(0.18396363342 + 1994.08662767389 * t);
-        Y2 += 0.00000000452 * Math.cos(4.24985614624 + 3.6883357796 * t);
-        Y2 += 0.00000000527 * Math.cos(2.84159709661 + 597.60283414461 * t);
-        Y2 += 0.00000000527 * Math.cos(4.64068120535 + 462.2667310116 * t);
-        Y2 += 0.00000000555 * Math.cos(1.79977655362 + 3892.92548058051 * t);
-        Y2 += 0.00000000464 * Math.cos(3.31404699259 + 1905.2209474569 * t);
-        Y2 += 0.00000000535 * Math.cos(2.60058723927 + 2943.74987161071 * t);
-        Y2 += 0.00000000535 * Math.cos(5.74217989286 + 2943.26223664369 * t);
-        Y2 += 0.00000000450 * Math.cos(3.73627122155 + 3914.26612158291 * t);
-        Y2 += 0.00000000390 * Math.cos(4.12428063042 + 2751.79141717511 * t);
-        Y2 += 0.00000000511 * Math.cos(4.46664359519 + 643.32249753521 * t);
-        Y2 += 0.00000000431 * Math.cos(0.85128279093 + 849.5080459724 * t);
-        Y2 += 0.00000000464 * Math.cos(6.26761999534 + 2633.98391398789 * t);
-        Y2 += 0.00000000486 * Math.cos(3.27293685238 + 2303.8525852967 * t);
-        Y2 += 0.00000000412 * Math.cos(6.19787080325 + 2758.9049641759 * t);
-        Y2 += 0.00000000423 * Math.cos(1.17747515264 + 1898.10740045609 * t);
-        Y2 += 0.00000000457 * Math.cos(5.26603357261 + 519.15220687259 * t);
-        Y2 += 0.00000000530 * Math.cos(2.82489810933 + 2221.6128171135 * t);
-        Y2 += 0.00000000443 * Math.cos(5.28863656813 + 89.10949770051 * t);
-        Y2 += 0.00000000478 * Math.cos(0.39094045474 + 2420.68481854989 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 190 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00016990902 * Math.cos(4.27247332045 + 522.8212355773 * t);
-        Y3 += 0.00016795793 * Math.cos(3.18563475573 + 537.0483295789 * t);
-        Y3 += 0.00005535565 * Math.cos(5.40269185025 + 0.2438174835 * t);
-        Y3 += 0.00001711756 * Math.cos(1.80070871020 + 1059.6257476727 * t);
-        Y3 += 0.00001437893 * Math.cos(4.40672411903 + 515.70768857651 * t);
-        Y3 += 0.00001080832 * Math.cos(3.83903053740 + 1066.7392946735 * t);
-        Y3 += 0.00001014927 * Math.cos(3.07247314388 + 544.1618765797 * t);
-        Y3 += 0.00001080320 * Math.cos(4.63909200214 + 7.3573644843 * t);
-        Y3 += 0.00000700816 * Math.cos(3.91629287572 + 1052.51220067191 * t);
-        Y3 += 0.00000245290 * Math.cos(2.63485195455 + 1589.3167127673 * t);
-        Y3 += 0.00000301422 * Math.cos(4.61795245261 + 14.47091148511 * t);
-        Y3 += 0.00000233420 * Math.cos(0.22403594785 + 529.9347825781 * t);
-        Y3 += 0.00000141715 * Math.cos(4.79041763529 + 529.44714761109 * t);
-        Y3 += 0.00000134439 * Math.cos(3.36367709264 + 1045.3986536711 * t);
-        Y3 += 0.00000078118 * Math.cos(4.43004262792 + 1596.43025976811 * t);
-        Y3 += 0.00000076833 * Math.cos(5.59776741855 + 117.5636857037 * t);
-        Y3 += 0.00000092926 * Math.cos(4.40350030513 + 323.74923414091 * t);
-        Y3 += 0.00000078223 * Math.cos(5.40096869297 + 110.45013870291 * t);
-        Y3 += 0.00000065879 * Math.cos(1.48772085888 + 109.9625037359 * t);
-        Y3 += 0.00000058147 * Math.cos(4.57249620850 + 508.5941415757 * t);
-        Y3 += 0.00000051718 * Math.cos(2.58980208142 + 95.7354097343 * t);
-        Y3 += 0.00000058000 * Math.cos(5.16608137630 + 426.8420083595 * t);
-        Y3 += 0.00000047055 * Math.cos(3.57438012615 + 1073.85284167431 * t);
-        Y3 += 0.00000041297 * Math.cos(2.04634997990 + 633.0275567967 * t);
-        Y3 += 0.00000056002 * Math.cos(3.01090434125 + 736.1203310153 * t);
-        Y3 += 0.00000040590 * Math.cos(1.87109726412 + 942.3058794525 * t);
-        Y3 += 0.00000036838 * Math.cos(3.19435792826 + 625.9140097959 * t);
-        Y3 += 0.00000032307 * Math.cos(2.88952809764 + 551.27542358051 * t);
-        Y3 += 0.00000038649 * Math.cos(4.33064739716 + 330.8627811417 * t);
-        Y3 += 0.00000031637 * Math.cos(4.00200479143 + 1582.2031657665 * t);
-        Y3 += 0.00000032315 * Math.cos(3.88623349757 + 433.9555553603 * t);
-        Y3 += 0.00000037135 * Math.cos(0.48127765061 + 103.3365917021 * t);
-        Y3 += 0.00000027869 * Math.cos(3.45656961616 + 220.6564599223 * t);
-        Y3 += 0.00000027130 * Math.cos(3.15454297418 + 2119.00767786191 * t);
-        Y3 += 0.00000027831 * Math.cos(1.90579303958 + 949.4194264533 * t);
-        Y3 += 0.00000026529 * Math.cos(2.71723722320 + 1169.83206889211 * t);
-        Y3 += 0.00000026303 * Math.cos(4.38890518124 + 419.72846135871 * t);
-        Y3 += 0.00000027724 * Math.cos(0.30357549024 + 6.86972951729 * t);
-        Y3 += 0.00000028942 * Math.cos(3.12933706476 + 729.0067840145 * t);
-        Y3 += 0.00000024801 * Math.cos(3.55551242105 + 198.82818395289 * t);
-        Y3 += 0.00000022666 * Math.cos(3.71310041528 + 1155.6049748905 * t);
-        Y3 += 0.00000022463 * Math.cos(0.48577882565 + 956.53297345411 * t);
-        Y3 += 0.00000024855 * Math.cos(5.09800784432 + 519.63984183961 * t);
-        Y3 += 0.00000017587 * Math.cos(4.51976917752 + 21.5844584859 * t);
-        Y3 += 0.00000020511 * Math.cos(2.33822898286 + 540.2297233166 * t);
-        Y3 += 0.00000017573 * Math.cos(3.85855374859 + 205.9417309537 * t);
-        Y3 += 0.00000019314 * Math.cos(2.63415930465 + 640.1411037975 * t);
-        Y3 += 0.00000013850 * Math.cos(5.76603142366 + 853.4401992355 * t);
-        Y3 += 0.00000013374 * Math.cos(3.35682573162 + 227.77000692311 * t);
-        Y3 += 0.00000012226 * Math.cos(4.58700933844 + 522.3336006103 * t);
-        Y3 += 0.00000011511 * Math.cos(2.47604533623 + 441.06910236111 * t);
-        Y3 += 0.00000011785 * Math.cos(4.54328580165 + 412.6149143579 * t);
-        Y3 += 0.00000009912 * Math.cos(1.34647813433 + 206.42936592071 * t);
-        Y3 += 0.00000009439 * Math.cos(4.79528119891 + 618.8004627951 * t);
-        Y3 += 0.00000009398 * Math.cos(3.27167007870 + 1038.2851066703 * t);
-        Y3 += 0.00000009377 * Math.cos(4.03210310088 + 839.2131052339 * t);
-        Y3 += 0.00000009606 * Math.cos(1.29930255542 + 426.3543733925 * t);
-        Y3 += 0.00000011272 * Math.cos(4.51307032502 + 309.0345051723 * t);
-        Y3 += 0.00000008495 * Math.cos(0.16101118987 + 536.5606946119 * t);
-        Y3 += 0.00000007775 * Math.cos(5.49067289304 + 316.6356871401 * t);
-        Y3 += 0.00000007402 * Math.cos(2.44949859869 + 412.12727939089 * t);
-        Y3 += 0.00000009022 * Math.cos(3.47982253523 + 1575.08961876571 * t);
-        Y3 += 0.00000007220 * Math.cos(4.54159743611 + 1258.6977491091 * t);
-        Y3 += 0.00000006726 * Math.cos(4.13659559768 + 832.0995582331 * t);
-        Y3 += 0.00000006944 * Math.cos(5.51093137903 + 309.5221401393 * t);
-        Y3 += 0.00000007778 * Math.cos(4.49951291514 + 301.9209581715 * t);
-        Y3 += 0.00000007986 * Math.cos(2.40170822369 + 213.0552779545 * t);
-        Y3 += 0.00000005933 * Math.cos(4.95948042350 + 2126.1212248627 * t);
-        Y3 += 0.00000005844 * Math.cos(1.73926665310 + 743.23387801611 * t);
-        Y3 += 0.00000005965 * Math.cos(3.67342955411 + 515.2200536095 * t);
-        Y3 += 0.00000004458 * Math.cos(5.51442841213 + 1059.1381127057 * t);
-        Y3 += 0.00000003905 * Math.cos(4.27184704039 + 1265.81129610991 * t);
-        Y3 += 0.00000004118 * Math.cos(5.46755234125 + 124.6772327045 * t);
-        Y3 += 0.00000003669 * Math.cos(1.84391323522 + 1486.2239385487 * t);
-        Y3 += 0.00000003534 * Math.cos(4.38721038089 + 625.42637482889 * t);
-        Y3 += 0.00000003134 * Math.cos(3.36420319845 + 1699.5230339867 * t);
-        Y3 += 0.00000002973 * Math.cos(1.04471011524 + 742.74624304909 * t);
-        Y3 += 0.00000002686 * Math.cos(5.78683992698 + 88.6218627335 * t);
-        Y3 += 0.00000003079 * Math.cos(1.99582195262 + 935.19233245171 * t);
-        Y3 += 0.00000002579 * Math.cos(3.95429921370 + 1062.80714141041 * t);
-        Y3 += 0.00000002378 * Math.cos(3.65318849817 + 2648.6986429565 * t);
-        Y3 += 0.00000002346 * Math.cos(2.14951839318 + 728.5191490475 * t);
-        Y3 += 0.00000003011 * Math.cos(2.56665773426 + 647.25465079831 * t);
-        Y3 += 0.00000002322 * Math.cos(4.05450701004 + 1603.5438067689 * t);
-        Y3 += 0.00000002809 * Math.cos(3.52093842683 + 1272.9248431107 * t);
-        Y3 += 0.00000002701 * Math.cos(2.72157216334 + 1471.9968445471 * t);
-        Y3 += 0.00000002369 * Math.cos(3.30637620547 + 721.8932370137 * t);
-        Y3 += 0.00000002359 * Math.cos(4.17347791131 + 337.9763281425 * t);
-        Y3 += 0.00000002423 * Math.cos(4.28527398429 + 618.3128278281 * t);
-        Y3 += 0.00000002070 * Math.cos(3.05132274908 + 831.6119232661 * t);
-        Y3 += 0.00000001958 * Math.cos(3.88095030867 + 526.7533888404 * t);
-        Y3 += 0.00000001935 * Math.cos(0.44518939738 + 533.1161763158 * t);
-        Y3 += 0.00000002297 * Math.cos(5.54175410580 + 1368.9040703285 * t);
-        Y3 += 0.00000002015 * Math.cos(3.68637600590 + 191.7146369521 * t);
-        Y3 += 0.00000002184 * Math.cos(4.06594004577 + 963.6465204549 * t);
-        Y3 += 0.00000001685 * Math.cos(4.73740509993 + 1685.2959399851 * t);
-        Y3 += 0.00000001816 * Math.cos(1.96798308062 + 1162.7185218913 * t);
-        Y3 += 0.00000001733 * Math.cos(2.70077445297 + 750.3474250169 * t);
-        Y3 += 0.00000001699 * Math.cos(4.10560078356 + 1055.6935944096 * t);
-        Y3 += 0.00000001717 * Math.cos(2.19034610706 + 448.1826493619 * t);
-        Y3 += 0.00000001811 * Math.cos(4.93807061086 + 860.55374623631 * t);
-        Y3 += 0.00000001432 * Math.cos(6.00290182284 + 81.50831573269 * t);
-        Y3 += 0.00000001779 * Math.cos(2.60448403761 + 1056.444353935 * t);
-        Y3 += 0.00000001397 * Math.cos(5.29190720613 + 611.6869157943 * t);
-        Y3 += 0.00000001563 * Math.cos(3.56303703117 + 838.72547026689 * t);
-        Y3 += 0.00000001726 * Math.cos(5.58280644952 + 1361.79052332771 * t);
-        Y3 += 0.00000001152 * Math.cos(0.12950397768 + 1383.13116433011 * t);
-        Y3 += 0.00000001200 * Math.cos(3.69239539182 + 632.5399218297 * t);
-        Y3 += 0.00000001145 * Math.cos(5.43151272872 + 405.5013673571 * t);
-        Y3 += 0.00000001078 * Math.cos(2.03239323412 + 1479.11039154791 * t);
-        Y3 += 0.00000001223 * Math.cos(6.16550077809 + 21.0968235189 * t);
-        Y3 += 0.00000001051 * Math.cos(1.31296703432 + 526.00262931501 * t);
-        Y3 += 0.00000001414 * Math.cos(3.85675901673 + 941.8182444855 * t);
-        Y3 += 0.00000001030 * Math.cos(3.03819438792 + 533.8669358412 * t);
-        Y3 += 0.00000001211 * Math.cos(2.84309753774 + 1069.92068841121 * t);
-        Y3 += 0.00000001240 * Math.cos(3.92862477221 + 934.70469748469 * t);
-        Y3 += 0.00000000944 * Math.cos(1.86321874038 + 1044.9110187041 * t);
-        Y3 += 0.00000001091 * Math.cos(4.10316988679 + 2111.8941308611 * t);
-        Y3 += 0.00000000986 * Math.cos(5.14322625016 + 2097.1794018925 * t);
-        Y3 += 0.00000000967 * Math.cos(5.28600031012 + 1588.82907780029 * t);
-        Y3 += 0.00000000939 * Math.cos(2.81112974414 + 13.9832765181 * t);
-        Y3 += 0.00000000870 * Math.cos(5.07245340162 + 639.6534688305 * t);
-        Y3 += 0.00000001013 * Math.cos(5.44748312429 + 1049.3308069342 * t);
-        Y3 += 0.00000000989 * Math.cos(2.86838275982 + 1148.00379292269 * t);
-        Y3 += 0.00000001043 * Math.cos(2.98280277812 + 1080.9663886751 * t);
-        Y3 += 0.00000000824 * Math.cos(4.17606860247 + 433.46792039329 * t);
-        Y3 += 0.00000001002 * Math.cos(4.01347037981 + 1788.38871420371 * t);
-        Y3 += 0.00000000823 * Math.cos(2.03930536894 + 654.3681977991 * t);
-        Y3 += 0.00000000801 * Math.cos(0.27042298823 + 1375.52998236229 * t);
-        Y3 += 0.00000000890 * Math.cos(4.65790311289 + 294.80741117069 * t);
-        Y3 += 0.00000000763 * Math.cos(3.00898516277 + 2421.1724535169 * t);
-        Y3 += 0.00000000793 * Math.cos(2.96629034382 + 234.8835539239 * t);
-        Y3 += 0.00000000752 * Math.cos(4.56374445756 + 1251.5842021083 * t);
-        Y3 += 0.00000000788 * Math.cos(5.54399109100 + 302.40859313851 * t);
-        Y3 += 0.00000000719 * Math.cos(3.28492821269 + 1787.9010792367 * t);
-        Y3 += 0.00000000760 * Math.cos(3.49538730713 + 2104.7805838603 * t);
-        Y3 += 0.00000000839 * Math.cos(4.84381227007 + 1898.5950354231 * t);
-        Y3 += 0.00000000962 * Math.cos(4.80560510645 + 2318.0796792983 * t);
-        Y3 += 0.00000000832 * Math.cos(4.85895718536 + 2001.68780964171 * t);
-        Y3 += 0.00000000930 * Math.cos(0.44313687441 + 96.2230447013 * t);
-        Y3 += 0.00000000879 * Math.cos(1.78320792762 + 845.8390172677 * t);
-        Y3 += 0.00000000780 * Math.cos(1.22419144371 + 611.1992808273 * t);
-        Y3 += 0.00000000900 * Math.cos(4.69837586769 + 1162.23088692429 * t);
-        Y3 += 0.00000000759 * Math.cos(3.21123137459 + 2008.3137216755 * t);
-        Y3 += 0.00000000715 * Math.cos(2.43949501289 + 1464.3956625793 * t);
-        Y3 += 0.00000000780 * Math.cos(4.52983365743 + 2214.98690507971 * t);
-        Y3 += 0.00000000679 * Math.cos(1.69767989980 + 2435.3995475185 * t);
-        Y3 += 0.00000000809 * Math.cos(5.12961307681 + 1994.5742626409 * t);
-        Y3 += 0.00000000772 * Math.cos(5.46156636423 + 220.16882495529 * t);
-        Y3 += 0.00000000622 * Math.cos(2.00213930026 + 316.14805217309 * t);
-        Y3 += 0.00000000612 * Math.cos(0.83227002431 + 749.8597900499 * t);
-        Y3 += 0.00000000612 * Math.cos(1.13237645481 + 117.0760507367 * t);
-        Y3 += 0.00000000713 * Math.cos(6.02221537369 + 1140.8902459219 * t);
-        Y3 += 0.00000000626 * Math.cos(1.12243212464 + 1692.40948698591 * t);
-        Y3 += 0.00000000676 * Math.cos(3.49335420549 + 2840.6570973921 * t);
-        Y3 += 0.00000000594 * Math.cos(1.37315363305 + 102.84895673509 * t);
-        Y3 += 0.00000000790 * Math.cos(3.53118420318 + 1251.0965671413 * t);
-        Y3 += 0.00000000756 * Math.cos(4.64193430086 + 1148.49142788971 * t);
-        Y3 += 0.00000000568 * Math.cos(0.84481707130 + 1141.3778808889 * t);
-        Y3 += 0.00000000616 * Math.cos(3.74926817789 + 2524.2652277355 * t);
-        Y3 += 0.00000000560 * Math.cos(2.89131917550 + 2104.2929488933 * t);
-        Y3 += 0.00000000686 * Math.cos(4.59806378353 + 2627.3580019541 * t);
-        Y3 += 0.00000000720 * Math.cos(3.64327792020 + 1258.21011414209 * t);
-        Y3 += 0.00000000733 * Math.cos(6.11931006119 + 1884.36794142151 * t);
-        Y3 += 0.00000000583 * Math.cos(1.49952942471 + 2751.79141717511 * t);
-        Y3 += 0.00000000546 * Math.cos(5.87603590490 + 543.6742416127 * t);
-        Y3 += 0.00000000530 * Math.cos(0.65117889899 + 1066.2516597065 * t);
-        Y3 += 0.00000000581 * Math.cos(2.31120308329 + 1780.78753223589 * t);
-        Y3 += 0.00000000523 * Math.cos(3.92602863833 + 1471.50920958009 * t);
-        Y3 += 0.00000000508 * Math.cos(3.10717560112 + 508.10650660869 * t);
-        Y3 += 0.00000000645 * Math.cos(3.47859687529 + 2015.9149036433 * t);
-        Y3 += 0.00000000553 * Math.cos(5.34237729322 + 852.9525642685 * t);
-        Y3 += 0.00000000480 * Math.cos(3.05830758640 + 1677.6947580173 * t);
-        Y3 += 0.00000000480 * Math.cos(6.19990023999 + 1678.1823929843 * t);
-        Y3 += 0.00000000618 * Math.cos(3.01489314196 + 1905.70858242391 * t);
-        Y3 += 0.00000000463 * Math.cos(1.12266408736 + 89.10949770051 * t);
-        Y3 += 0.00000000512 * Math.cos(3.49738396142 + 1155.1173399235 * t);
-        Y3 += 0.00000000497 * Math.cos(3.67029546589 + 1376.0176173293 * t);
-        Y3 += 0.00000000529 * Math.cos(2.41566570980 + 1802.6158082053 * t);
-        Y3 += 0.00000000617 * Math.cos(4.55541673250 + 2634.47154895491 * t);
-        Y3 += 0.00000000459 * Math.cos(5.95987834679 + 1691.9218520189 * t);
-        Y3 += 0.00000000503 * Math.cos(0.43655200011 + 948.9317914863 * t);
-        Y3 += 0.00000000547 * Math.cos(4.87653833894 + 2310.9661322975 * t);
-        Y3 += 0.00000000432 * Math.cos(3.81824814417 + 1567.48843679789 * t);
-        Y3 += 0.00000000432 * Math.cos(3.81824814417 + 1567.9760717649 * t);
-        Y3 += 0.00000000419 * Math.cos(1.75904856409 + 1361.3028883607 * t);
-        Y3 += 0.00000000415 * Math.cos(5.93908536808 + 558.3889705813 * t);
-        Y3 += 0.00000000415 * Math.cos(4.68478558747 + 501.4805945749 * t);
-        Y3 += 0.00000000413 * Math.cos(0.31276763851 + 1883.8803064545 * t);
-        Y3 += 0.00000000436 * Math.cos(3.11437440839 + 1464.8832975463 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 73 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00001739145 * Math.cos(1.42580386197 + 537.0483295789 * t);
-        Y4 += 0.00001740807 * Math.cos(6.00432821679 + 522.8212355773 * t);
-        Y4 += 0.00000593812 * Math.cos(3.67074805419 + 529.9347825781 * t);
-        Y4 += 0.00000303714 * Math.cos(6.13319798890 + 515.70768857651 * t);
-        Y4 += 0.00000216971 * Math.cos(1.33336714102 + 544.1618765797 * t);
-        Y4 += 0.00000201301 * Math.cos(0.66067734911 + 0.2438174835 * t);
-        Y4 += 0.00000128314 * Math.cos(2.22919023790 + 1066.7392946735 * t);
-        Y4 += 0.00000084519 * Math.cos(2.80934114497 + 7.3573644843 * t);
-        Y4 += 0.00000066713 * Math.cos(5.73808767639 + 1052.51220067191 * t);
-        Y4 += 0.00000050914 * Math.cos(2.88970415030 + 14.47091148511 * t);
-        Y4 += 0.00000056189 * Math.cos(5.95539409574 + 1059.6257476727 * t);
-        Y4 += 0.00000023551 * Math.cos(5.17496754986 + 1045.3986536711 * t);
-        Y4 += 0.00000014975 * Math.cos(0.07336624009 + 508.5941415757 * t);
-        Y4 += 0.00000012320 * Math.cos(1.18823443350 + 1589.3167127673 * t);
-        Y4 += 0.00000010412 * Math.cos(1.88156810845 + 1073.85284167431 * t);
-        Y4 += 0.00000010436 * Math.cos(2.90285964648 + 1596.43025976811 * t);
-        Y4 += 0.00000010171 * Math.cos(3.86119874481 + 117.5636857037 * t);
-        Y4 += 0.00000007028 * Math.cos(6.10496958528 + 109.9625037359 * t);
-        Y4 += 0.00000007310 * Math.cos(1.00125130523 + 551.27542358051 * t);
-        Y4 += 0.00000005867 * Math.cos(4.33407208985 + 95.7354097343 * t);
-        Y4 += 0.00000005482 * Math.cos(2.53643730082 + 323.74923414091 * t);
-        Y4 += 0.00000005308 * Math.cos(2.60414218500 + 330.8627811417 * t);
-        Y4 += 0.00000005155 * Math.cos(3.58060509730 + 942.3058794525 * t);
-        Y4 += 0.00000004404 * Math.cos(4.83926930457 + 729.0067840145 * t);
-        Y4 += 0.00000003429 * Math.cos(4.99509335363 + 625.9140097959 * t);
-        Y4 += 0.00000003596 * Math.cos(3.33581032804 + 110.45013870291 * t);
-        Y4 += 0.00000003379 * Math.cos(5.25427709084 + 198.82818395289 * t);
-        Y4 += 0.00000002870 * Math.cos(2.96757411587 + 529.44714761109 * t);
-        Y4 += 0.00000003465 * Math.cos(4.76476994232 + 736.1203310153 * t);
-        Y4 += 0.00000002781 * Math.cos(5.80054865786 + 1582.2031657665 * t);
-        Y4 += 0.00000002710 * Math.cos(0.81919347445 + 441.06910236111 * t);
-        Y4 += 0.00000002621 * Math.cos(0.96453577508 + 1169.83206889211 * t);
-        Y4 += 0.00000002851 * Math.cos(2.20827145709 + 103.3365917021 * t);
-        Y4 += 0.00000003222 * Math.cos(1.76964083344 + 433.9555553603 * t);
-        Y4 += 0.00000002252 * Math.cos(5.47979006595 + 1155.6049748905 * t);
-        Y4 += 0.00000002643 * Math.cos(3.09107587932 + 426.8420083595 * t);
-        Y4 += 0.00000002565 * Math.cos(1.36437340248 + 6.86972951729 * t);
-        Y4 += 0.00000002154 * Math.cos(0.36845643020 + 618.8004627951 * t);
-        Y4 += 0.00000002044 * Math.cos(6.19291733804 + 419.72846135871 * t);
-        Y4 += 0.00000001513 * Math.cos(1.60661037744 + 220.6564599223 * t);
-        Y4 += 0.00000001619 * Math.cos(3.76198603224 + 633.0275567967 * t);
-        Y4 += 0.00000001503 * Math.cos(1.66604601675 + 2119.00767786191 * t);
-        Y4 += 0.00000001422 * Math.cos(1.64339956175 + 227.77000692311 * t);
-        Y4 += 0.00000001448 * Math.cos(5.34787531868 + 1575.08961876571 * t);
-        Y4 += 0.00000001354 * Math.cos(5.08770092894 + 956.53297345411 * t);
-        Y4 += 0.00000001398 * Math.cos(6.23305755326 + 301.9209581715 * t);
-        Y4 += 0.00000001551 * Math.cos(0.94639398642 + 640.1411037975 * t);
-        Y4 += 0.00000001193 * Math.cos(4.12010673320 + 853.4401992355 * t);
-        Y4 += 0.00000001228 * Math.cos(4.89609039918 + 536.5606946119 * t);
-        Y4 += 0.00000001153 * Math.cos(5.81136535588 + 426.3543733925 * t);
-        Y4 += 0.00000001111 * Math.cos(0.25913441118 + 309.5221401393 * t);
-        Y4 += 0.00000001322 * Math.cos(6.23999851102 + 412.6149143579 * t);
-        Y4 += 0.00000001137 * Math.cos(0.06266558324 + 1258.6977491091 * t);
-        Y4 += 0.00000000987 * Math.cos(0.30137359463 + 522.3336006103 * t);
-        Y4 += 0.00000000937 * Math.cos(2.83311778330 + 618.3128278281 * t);
-        Y4 += 0.00000000830 * Math.cos(4.12976646136 + 412.12727939089 * t);
-        Y4 += 0.00000000868 * Math.cos(5.39178303584 + 1038.2851066703 * t);
-        Y4 += 0.00000000819 * Math.cos(2.43009257653 + 742.74624304909 * t);
-        Y4 += 0.00000000952 * Math.cos(1.65716723019 + 831.6119232661 * t);
-        Y4 += 0.00000000903 * Math.cos(3.71462655064 + 949.4194264533 * t);
-        Y4 += 0.00000000740 * Math.cos(5.82657968137 + 832.0995582331 * t);
-        Y4 += 0.00000000726 * Math.cos(5.81781448666 + 839.2131052339 * t);
-        Y4 += 0.00000000890 * Math.cos(1.13102640201 + 647.25465079831 * t);
-        Y4 += 0.00000000672 * Math.cos(5.39661133415 + 102.84895673509 * t);
-        Y4 += 0.00000000598 * Math.cos(2.46149662725 + 337.9763281425 * t);
-        Y4 += 0.00000000711 * Math.cos(5.36999317897 + 515.2200536095 * t);
-        Y4 += 0.00000000557 * Math.cos(0.72441048007 + 1486.2239385487 * t);
-        Y4 += 0.00000000506 * Math.cos(3.86590138433 + 1059.1381127057 * t);
-        Y4 += 0.00000000464 * Math.cos(2.90086100642 + 117.0760507367 * t);
-        Y4 += 0.00000000479 * Math.cos(4.66931827522 + 526.7533888404 * t);
-        Y4 += 0.00000000451 * Math.cos(5.32820518820 + 1471.9968445471 * t);
-        Y4 += 0.00000000466 * Math.cos(5.95847666696 + 533.1161763158 * t);
-        Y4 += 0.00000000396 * Math.cos(2.33304510363 + 1603.5438067689 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 15 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000131509 * Math.cos(5.80959663173 + 537.0483295789 * t);
-        Y5 += 0.00000126839 * Math.cos(1.57486395680 + 522.8212355773 * t);
-        Y5 += 0.00000048033 * Math.cos(1.61168112243 + 515.70768857651 * t);
-        Y5 += 0.00000034241 * Math.cos(5.82558762592 + 544.1618765797 * t);
-        Y5 += 0.00000011284 * Math.cos(0.56803103740 + 1066.7392946735 * t);
-        Y5 += 0.00000005229 * Math.cos(0.87528666787 + 0.2438174835 * t);
-        Y5 += 0.00000003712 * Math.cos(1.71517319353 + 1052.51220067191 * t);
-        Y5 += 0.00000004457 * Math.cos(3.71675991204 + 529.9347825781 * t);
-        Y5 += 0.00000001949 * Math.cos(0.16900749445 + 1073.85284167431 * t);
-        Y5 += 0.00000001738 * Math.cos(3.42162831595 + 1059.6257476727 * t);
-        Y5 += 0.00000001716 * Math.cos(1.48767323100 + 1045.3986536711 * t);
-        Y5 += 0.00000000879 * Math.cos(1.64959635605 + 508.5941415757 * t);
-        Y5 += 0.00000000886 * Math.cos(2.65648931803 + 551.27542358051 * t);
-        Y5 += 0.00000000665 * Math.cos(0.00022824942 + 7.3573644843 * t);
-        Y5 += 0.00000000466 * Math.cos(1.28798211401 + 1596.43025976811 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 216 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.11823100489 * Math.cos(3.55844646343 + 529.6909650946 * t);
-        Z0 += 0.00859031952;
-        Z0 += 0.00286562094 * Math.cos(3.90812238338 + 1059.3819301892 * t);
-        Z0 += 0.00042388592 * Math.cos(3.60144191032 + 522.5774180938 * t);
-        Z0 += 0.00033295491 * Math.cos(0.30297050585 + 536.8045120954 * t);
-        Z0 += 0.00010416160 * Math.cos(4.25764593061 + 1589.0728952838 * t);
-        Z0 += 0.00007449294 * Math.cos(5.24213104150 + 103.0927742186 * t);
-        Z0 += 0.00006910102 * Math.cos(1.75032945752 + 7.1135470008 * t);
-        Z0 += 0.00005292012 * Math.cos(1.68231447192 + 426.598190876 * t);
-        Z0 += 0.00004313598 * Math.cos(3.70673689841 + 213.299095438 * t);
-        Z0 += 0.00003784265 * Math.cos(2.71522544491 + 110.2063212194 * t);
-        Z0 += 0.00003798016 * Math.cos(2.16715743175 + 632.7837393132 * t);
-        Z0 += 0.00002455385 * Math.cos(2.96904135659 + 1052.2683831884 * t);
-        Z0 += 0.00002461547 * Math.cos(2.99889460411 + 1162.4747044078 * t);
-        Z0 += 0.00002001451 * Math.cos(2.68535838309 + 419.4846438752 * t);
-        Z0 += 0.00002163471 * Math.cos(6.26718259854 + 846.0828347512 * t);
-        Z0 += 0.00001633653 * Math.cos(0.64194743493 + 1066.49547719 * t);
-        Z0 += 0.00001450672 * Math.cos(1.17108416193 + 949.1756089698 * t);
-        Z0 += 0.00000693095 * Math.cos(5.14278041161 + 316.3918696566 * t);
-        Z0 += 0.00000715042 * Math.cos(1.41211197820 + 323.5054166574 * t);
-        Z0 += 0.00000549720 * Math.cos(4.84164274378 + 742.9900605326 * t);
-        Z0 += 0.00000447831 * Math.cos(4.60746588621 + 2118.7638603784 * t);
-        Z0 += 0.00000543619 * Math.cos(3.69636561822 + 515.463871093 * t);
-        Z0 += 0.00000483852 * Math.cos(4.71796110160 + 735.8765135318 * t);
-        Z0 += 0.00000365100 * Math.cos(6.06065925437 + 206.1855484372 * t);
-        Z0 += 0.00000288980 * Math.cos(0.40266293090 + 525.7588118315 * t);
-        Z0 += 0.00000254938 * Math.cos(0.17978560944 + 543.9180590962 * t);
-        Z0 += 0.00000195137 * Math.cos(3.35374802237 + 1692.1656695024 * t);
-        Z0 += 0.00000253254 * Math.cos(3.57485315487 + 533.6231183577 * t);
-        Z0 += 0.00000196691 * Math.cos(2.65526923569 + 956.2891559706 * t);
-        Z0 += 0.00000154379 * Math.cos(1.47050669470 + 625.6701923124 * t);
-        Z0 += 0.00000145972 * Math.cos(5.96112903396 + 838.9692877504 * t);
-        Z0 += 0.00000162371 * Math.cos(3.12160596807 + 1581.959348283 * t);
-        Z0 += 0.00000135954 * Math.cos(2.23721600610 + 1478.8665740644 * t);
-        Z0 += 0.00000135376 * Math.cos(4.03180075278 + 1265.5674786264 * t);
-        Z0 += 0.00000118734 * Math.cos(6.19132554294 + 532.8723588323 * t);
-        Z0 += 0.00000121147 * Math.cos(4.06252466827 + 526.5095713569 * t);
-        Z0 += 0.00000113963 * Math.cos(0.34443034869 + 1375.7737998458 * t);
-        Z0 += 0.00000133095 * Math.cos(1.61283648080 + 14.2270940016 * t);
-        Z0 += 0.00000089416 * Math.cos(0.98707919437 + 1596.1864422846 * t);
-        Z0 += 0.00000091948 * Math.cos(5.29521569721 + 95.9792272178 * t);
-        Z0 += 0.00000071808 * Math.cos(2.60370257221 + 117.3198682202 * t);
-        Z0 += 0.00000063527 * Math.cos(0.97603653343 + 433.7117378768 * t);
-        Z0 += 0.00000064121 * Math.cos(4.63524391670 + 1368.660252845 * t);
-        Z0 += 0.00000059116 * Math.cos(0.42038566170 + 220.4126424388 * t);
-        Z0 += 0.00000060054 * Math.cos(1.05875226211 + 942.062061969 * t);
-        Z0 += 0.00000054868 * Math.cos(6.14868344705 + 1169.5882514086 * t);
-        Z0 += 0.00000047058 * Math.cos(2.39069042869 + 853.196381752 * t);
-        Z0 += 0.00000056617 * Math.cos(5.78644786940 + 639.897286314 * t);
-        Z0 += 0.00000041028 * Math.cos(5.07649815801 + 309.2783226558 * t);
-        Z0 += 0.00000054980 * Math.cos(2.72414041857 + 1045.1548361876 * t);
-        Z0 += 0.00000039937 * Math.cos(2.63014962920 + 380.12776796 * t);
-        Z0 += 0.00000034887 * Math.cos(3.06644858707 + 412.3710968744 * t);
-        Z0 += 0.00000033112 * Math.cos(2.21084011524 + 74.7815985673 * t);
-        Z0 += 0.00000024753 * Math.cos(4.09311535367 + 527.2432845398 * t);
-        Z0 += 0.00000021473 * Math.cos(5.68324848411 + 1272.6810256272 * t);
-        Z0 += 0.00000021259 * Math.cos(4.15648418623 + 1685.0521225016 * t);
-        Z0 += 0.00000021214 * Math.cos(4.95749714252 + 2648.454825473 * t);
-        Z0 += 0.00000019531 * Math.cos(3.58685387193 + 529.7391492044 * t);
-        Z0 += 0.00000024578 * Math.cos(6.16442414965 + 532.1386456494 * t);
-        Z0 += 0.00000021217 * Math.cos(4.46071227915 + 1155.361157407 * t);
-        Z0 += 0.00000021279 * Math.cos(3.98105217713 + 1795.258443721 * t);
-        Z0 += 0.00000019533 * Math.cos(0.38904271302 + 529.6427809848 * t);
-        Z0 += 0.00000019570 * Math.cos(4.37171598624 + 149.5631971346 * t);
-        Z0 += 0.00000019447 * Math.cos(1.27663598466 + 330.6189636582 * t);
-        Z0 += 0.00000015440 * Math.cos(0.72260027140 + 530.6541729411 * t);
-        Z0 += 0.00000014562 * Math.cos(5.50135998822 + 1471.7530270636 * t);
-        Z0 += 0.00000017624 * Math.cos(1.31667827871 + 3.9321532631 * t);
-        Z0 += 0.00000013309 * Math.cos(2.77897533854 + 2008.557539159 * t);
-        Z0 += 0.00000013206 * Math.cos(3.64976502017 + 2221.856634597 * t);
-        Z0 += 0.00000013142 * Math.cos(0.72687086889 + 1055.4497769261 * t);
-        Z0 += 0.00000015413 * Math.cos(4.31958059396 + 1063.3140834523 * t);
-        Z0 += 0.00000014193 * Math.cos(3.67387943991 + 2111.6503133776 * t);
-        Z0 += 0.00000012996 * Math.cos(1.31000927869 + 453.424893819 * t);
-        Z0 += 0.00000011738 * Math.cos(6.14331082365 + 199.0720014364 * t);
-        Z0 += 0.00000015482 * Math.cos(3.25291782438 + 528.7277572481 * t);
-        Z0 += 0.00000010389 * Math.cos(0.51378228980 + 1073.6090241908 * t);
-        Z0 += 0.00000012990 * Math.cos(1.87234255615 + 984.6003316219 * t);
-        Z0 += 0.00000012280 * Math.cos(1.99030236725 + 38.1330356378 * t);
-        Z0 += 0.00000010473 * Math.cos(0.26689008608 + 10213.285546211 * t);
-        Z0 += 0.00000008875 * Math.cos(0.13793367408 + 305.3461693927 * t);
-        Z0 += 0.00000007692 * Math.cos(5.08407965373 + 1788.1448967202 * t);
-        Z0 += 0.00000007861 * Math.cos(3.79832245754 + 76.2660712756 * t);
-        Z0 += 0.00000008714 * Math.cos(1.58825029218 + 3.1813937377 * t);
-        Z0 += 0.00000007143 * Math.cos(4.01912438773 + 2001.4439921582 * t);
-        Z0 += 0.00000006752 * Math.cos(5.50960892986 + 1898.3512179396 * t);
-        Z0 += 0.00000007441 * Math.cos(1.30439352743 + 618.5566453116 * t);
-        Z0 += 0.00000006896 * Math.cos(1.74025919863 + 529.1697002328 * t);
-        Z0 += 0.00000007365 * Math.cos(3.26347830221 + 1485.9801210652 * t);
-        Z0 += 0.00000006518 * Math.cos(0.90320354569 + 1905.4647649404 * t);
-        Z0 += 0.00000008347 * Math.cos(5.96531853825 + 909.8187330546 * t);
-        Z0 += 0.00000007728 * Math.cos(4.61604781975 + 728.762966531 * t);
-        Z0 += 0.00000006887 * Math.cos(2.23549334986 + 530.2122299564 * t);
-        Z0 += 0.00000005783 * Math.cos(6.02338915633 + 831.8557407496 * t);
-        Z0 += 0.00000005788 * Math.cos(0.26042181508 + 1062.5633239269 * t);
-        Z0 += 0.00000005581 * Math.cos(6.17489228666 + 1258.4539316256 * t);
-        Z0 += 0.00000005154 * Math.cos(1.33592252764 + 2125.8774073792 * t);
-        Z0 += 0.00000004916 * Math.cos(0.18728472832 + 1699.2792165032 * t);
-        Z0 += 0.00000005480 * Math.cos(3.12818768952 + 604.4725636619 * t);
-        Z0 += 0.00000004967 * Math.cos(3.92882210242 + 508.3503240922 * t);
-        Z0 += 0.00000004994 * Math.cos(0.03902921434 + 1439.5096981492 * t);
-        Z0 += 0.00000005269 * Math.cos(4.06576160798 + 1056.2005364515 * t);
-        Z0 += 0.00000004711 * Math.cos(0.87975326503 + 490.3340891794 * t);
-        Z0 += 0.00000004221 * Math.cos(2.57304081485 + 99.1606209555 * t);
-        Z0 += 0.00000004005 * Math.cos(2.96062737592 + 526.7702037878 * t);
-        Z0 += 0.00000003959 * Math.cos(1.38163787157 + 532.6117264014 * t);
-        Z0 += 0.00000004844 * Math.cos(1.47818569722 + 454.9093665273 * t);
-        Z0 += 0.00000003683 * Math.cos(0.33555577415 + 528.9402055692 * t);
-        Z0 += 0.00000003681 * Math.cos(4.00539820601 + 530.44172462 * t);
-        Z0 += 0.00000003623 * Math.cos(0.28674357330 + 227.5261894396 * t);
-        Z0 += 0.00000004295 * Math.cos(3.45202038167 + 569.0478410098 * t);
-        Z0 += 0.00000003458 * Math.cos(4.40401766789 + 519.3960243561 * t);
-        Z0 += 0.00000003435 * Math.cos(5.34191505443 + 11.0457002639 * t);
-        Z0 += 0.00000003355 * Math.cos(4.80063248866 + 2104.5367663768 * t);
-        Z0 += 0.00000003535 * Math.cos(1.18645749024 + 525.4981794006 * t);
-        Z0 += 0.00000003477 * Math.cos(3.15607509055 + 533.8837507886 * t);
-        Z0 += 0.00000003219 * Math.cos(5.37130793285 + 2214.7430875962 * t);
-        Z0 += 0.00000004358 * Math.cos(2.16300555603 + 1021.2488945514 * t);
-        Z0 += 0.00000003334 * Math.cos(0.38640772450 + 224.3447957019 * t);
-        Z0 += 0.00000002697 * Math.cos(6.22459411775 + 539.9859058331 * t);
-        Z0 += 0.00000003143 * Math.cos(0.15836271478 + 750.1036075334 * t);
-        Z0 += 0.00000002649 * Math.cos(3.80434469443 + 2317.8358618148 * t);
-        Z0 += 0.00000002856 * Math.cos(0.29274516197 + 983.1158589136 * t);
-        Z0 += 0.00000003424 * Math.cos(5.16456871383 + 1.4844727083 * t);
-        Z0 += 0.00000002725 * Math.cos(0.64710955846 + 524.0618908021 * t);
-        Z0 += 0.00000002623 * Math.cos(0.25280896703 + 551.031606097 * t);
-        Z0 += 0.00000002685 * Math.cos(3.69478866795 + 535.3200393871 * t);
-        Z0 += 0.00000002939 * Math.cos(0.64629595693 + 540.7366653585 * t);
-        Z0 += 0.00000002398 * Math.cos(4.36615854926 + 2428.0421830342 * t);
-        Z0 += 0.00000002597 * Math.cos(1.15824869762 + 963.4027029714 * t);
-        Z0 += 0.00000002769 * Math.cos(0.20040217534 + 525.0250986486 * t);
-        Z0 += 0.00000002336 * Math.cos(3.71676131146 + 529.851023789 * t);
-        Z0 += 0.00000002336 * Math.cos(0.62392433691 + 529.5309064002 * t);
-        Z0 += 0.00000002491 * Math.cos(2.84297287947 + 1382.8873468466 * t);
-        Z0 += 0.00000002598 * Math.cos(4.13924061941 + 534.3568315406 * t);
-        Z0 += 0.00000002747 * Math.cos(1.76471074936 + 524.2743391232 * t);
-        Z0 += 0.00000002475 * Math.cos(0.99313692673 + 934.9485149682 * t);
-        Z0 += 0.00000002704 * Math.cos(2.57406093768 + 535.107591066 * t);
-        Z0 += 0.00000002302 * Math.cos(5.84295144929 + 1148.2476104062 * t);
-        Z0 += 0.00000002068 * Math.cos(5.96196623799 + 440.8252848776 * t);
-        Z0 += 0.00000002012 * Math.cos(4.95946680265 + 1361.5467058442 * t);
-        Z0 += 0.00000001987 * Math.cos(0.18375525793 + 1802.3719907218 * t);
-        Z0 += 0.00000001934 * Math.cos(2.82066156035 + 835.0371344873 * t);
-        Z0 += 0.00000002147 * Math.cos(5.96724060411 + 1891.2376709388 * t);
-        Z0 += 0.00000001940 * Math.cos(3.63687343812 + 2324.9494088156 * t);
-        Z0 += 0.00000001763 * Math.cos(2.57382733259 + 415.5524906121 * t);
-        Z0 += 0.00000001860 * Math.cos(5.24230405559 + 2531.1349572528 * t);
-        Z0 += 0.00000001707 * Math.cos(5.38883058569 + 302.164775655 * t);
-        Z0 += 0.00000002152 * Math.cos(1.74557444220 + 21.3406410024 * t);
-        Z0 += 0.00000001613 * Math.cos(3.45966511571 + 529.4785167735 * t);
-        Z0 += 0.00000001613 * Math.cos(0.88102053266 + 529.9034134157 * t);
-        Z0 += 0.00000002134 * Math.cos(2.79657990895 + 35.4247226521 * t);
-        Z0 += 0.00000001593 * Math.cos(1.37312370449 + 1574.8458012822 * t);
-        Z0 += 0.00000001510 * Math.cos(3.41611736454 + 518.6452648307 * t);
-        Z0 += 0.00000001579 * Math.cos(3.96836848379 + 2420.9286360334 * t);
-        Z0 += 0.00000001630 * Math.cos(1.31973482281 + 39.3568759152 * t);
-        Z0 += 0.00000001598 * Math.cos(2.53043088824 + 511.5317178299 * t);
-        Z0 += 0.00000001841 * Math.cos(5.72475961436 + 531.1754378029 * t);
-        Z0 += 0.00000001537 * Math.cos(1.84394223501 + 547.8502123593 * t);
-        Z0 += 0.00000001771 * Math.cos(4.87234280655 + 528.2064923863 * t);
-        Z0 += 0.00000001656 * Math.cos(1.27834742762 + 173.9422195228 * t);
-        Z0 += 0.00000001242 * Math.cos(1.65064670901 + 643.8294395771 * t);
-        Z0 += 0.00000001302 * Math.cos(3.54050271463 + 3340.6124266998 * t);
-        Z0 += 0.00000001236 * Math.cos(5.41985106155 + 107.0249274817 * t);
-        Z0 += 0.00000001165 * Math.cos(1.48429677606 + 960.2213092337 * t);
-        Z0 += 0.00000001166 * Math.cos(5.12888892088 + 1048.3362299253 * t);
-        Z0 += 0.00000001153 * Math.cos(4.78828764413 + 514.7131115676 * t);
-        Z0 += 0.00000001153 * Math.cos(4.22743390789 + 2744.4340526908 * t);
-        Z0 += 0.00000001478 * Math.cos(3.73912254261 + 230.5645708254 * t);
-        Z0 += 0.00000001121 * Math.cos(6.27688038656 + 387.2413149608 * t);
-        Z0 += 0.00000001112 * Math.cos(5.83569926578 + 544.6688186216 * t);
-        Z0 += 0.00000001170 * Math.cos(1.05508911315 + 1512.8068240082 * t);
-        Z0 += 0.00000001113 * Math.cos(5.74217831509 + 3480.3105662226 * t);
-        Z0 += 0.00000001507 * Math.cos(4.16985097397 + 1364.7280995819 * t);
-        Z0 += 0.00000001120 * Math.cos(5.02238271412 + 1464.6394800628 * t);
-        Z0 += 0.00000001232 * Math.cos(2.83088412944 + 2538.2485042536 * t);
-        Z0 += 0.00000001179 * Math.cos(4.62538441124 + 1056.9342496344 * t);
-        Z0 += 0.00000001278 * Math.cos(3.86396842379 + 92.0470739547 * t);
-        Z0 += 0.00000001094 * Math.cos(2.73378417498 + 299.1263942692 * t);
-        Z0 += 0.00000001345 * Math.cos(0.63863230611 + 1061.829610744 * t);
-        Z0 += 0.00000000977 * Math.cos(3.50831165685 + 2.4476805548 * t);
-        Z0 += 0.00000001323 * Math.cos(4.03638019689 + 494.2662424425 * t);
-        Z0 += 0.00000001310 * Math.cos(5.45458264580 + 1057.8974574809 * t);
-        Z0 += 0.00000000966 * Math.cos(3.51363341772 + 2634.2277314714 * t);
-        Z0 += 0.00000001053 * Math.cos(5.49394122920 + 3178.1457905676 * t);
-        Z0 += 0.00000000984 * Math.cos(4.22960042766 + 430.5303441391 * t);
-        Z0 += 0.00000000937 * Math.cos(3.77590974564 + 2641.3412784722 * t);
-        Z0 += 0.00000000932 * Math.cos(4.11879245377 + 1059.430114299 * t);
-        Z0 += 0.00000000941 * Math.cos(0.30660455816 + 70.8494453042 * t);
-        Z0 += 0.00000000925 * Math.cos(1.29091785470 + 2435.155730035 * t);
-        Z0 += 0.00000000950 * Math.cos(3.88567620136 + 3377.217792004 * t);
-        Z0 += 0.00000001051 * Math.cos(5.62777473038 + 2207.6295405954 * t);
-        Z0 += 0.00000001020 * Math.cos(1.77520625500 + 312.4597163935 * t);
-        Z0 += 0.00000000946 * Math.cos(4.13718116942 + 1677.9385755008 * t);
-        Z0 += 0.00000001080 * Math.cos(2.32932073464 + 106.2741679563 * t);
-        Z0 += 0.00000000890 * Math.cos(0.03582895580 + 647.0108333148 * t);
-        Z0 += 0.00000001086 * Math.cos(2.80157071056 + 1038.0412891868 * t);
-        Z0 += 0.00000001158 * Math.cos(0.32499630540 + 565.1156877467 * t);
-        Z0 += 0.00000001098 * Math.cos(1.00937080256 + 523.5406259403 * t);
-        Z0 += 0.00000000932 * Math.cos(0.92098132614 + 1059.3337460794 * t);
-        Z0 += 0.00000000821 * Math.cos(3.41471589329 + 2950.619601128 * t);
-        Z0 += 0.00000000929 * Math.cos(2.30521635468 + 1514.2912967165 * t);
-        Z0 += 0.00000000915 * Math.cos(1.48306891526 + 10.2949407385 * t);
-        Z0 += 0.00000000911 * Math.cos(3.32547809355 + 18.1592472647 * t);
-        Z0 += 0.00000000786 * Math.cos(2.82286526802 + 1134.1635287565 * t);
-        Z0 += 0.00000000954 * Math.cos(0.13401891198 + 3906.9087570986 * t);
-        Z0 += 0.00000000994 * Math.cos(3.33159283750 + 535.8413042489 * t);
-        Z0 += 0.00000000792 * Math.cos(5.10203109941 + 2524.021410252 * t);
-        Z0 += 0.00000000824 * Math.cos(1.74472748730 + 529.9515975255 * t);
-        Z0 += 0.00000000824 * Math.cos(2.59595816107 + 529.4303326637 * t);
-        Z0 += 0.00000000762 * Math.cos(4.30564108086 + 672.1406152284 * t);
-        Z0 += 0.00000000872 * Math.cos(5.03498959444 + 679.2541622292 * t);
-        Z0 += 0.00000000839 * Math.cos(3.34536065236 + 124.433415221 * t);
-        Z0 += 0.00000000927 * Math.cos(4.91765336511 + 1593.0050485469 * t);
-        Z0 += 0.00000000826 * Math.cos(5.05738343335 + 2847.5268269094 * t);
-        Z0 += 0.00000000738 * Math.cos(0.70435921398 + 522.529233984 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 124 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00922338114 * Math.cos(5.70129376981 + 529.6909650946 * t);
-        Z1 += 0.00016158151 * Math.cos(5.47088355549 + 522.5774180938 * t);
-        Z1 += 0.00011443757 * Math.cos(4.73284385916 + 536.8045120954 * t);
-        Z1 -= 0.00013239917;
-        Z1 += 0.00008389696 * Math.cos(5.77702424773 + 1059.3819301892 * t);
-        Z1 += 0.00001518380 * Math.cos(6.17585226995 + 7.1135470008 * t);
-        Z1 += 0.00000909709 * Math.cos(4.72812859336 + 1052.2683831884 * t);
-        Z1 += 0.00000620246 * Math.cos(2.72253251427 + 103.0927742186 * t);
-        Z1 += 0.00000608445 * Math.cos(5.18778213162 + 1066.49547719 * t);
-        Z1 += 0.00000532577 * Math.cos(3.42162653671 + 632.7837393132 * t);
-        Z1 += 0.00000380990 * Math.cos(0.66271432082 + 419.4846438752 * t);
-        Z1 += 0.00000388254 * Math.cos(5.49417723877 + 515.463871093 * t);
-        Z1 += 0.00000298589 * Math.cos(2.90253153613 + 949.1756089698 * t);
-        Z1 += 0.00000349922 * Math.cos(0.54665309808 + 110.2063212194 * t);
-        Z1 += 0.00000279305 * Math.cos(3.88961739871 + 1589.0728952838 * t);
-        Z1 += 0.00000361932 * Math.cos(5.53643296927 + 213.299095438 * t);
-        Z1 += 0.00000225182 * Math.cos(3.89570879874 + 735.8765135318 * t);
-        Z1 += 0.00000187607 * Math.cos(4.69299591719 + 543.9180590962 * t);
-        Z1 += 0.00000179235 * Math.cos(5.12740491355 + 1162.4747044078 * t);
-        Z1 += 0.00000200039 * Math.cos(6.12017192088 + 316.3918696566 * t);
-        Z1 += 0.00000182523 * Math.cos(1.80179763504 + 846.0828347512 * t);
-        Z1 += 0.00000144548 * Math.cos(5.86543306509 + 323.5054166574 * t);
-        Z1 += 0.00000086282 * Math.cos(5.89687025782 + 526.5095713569 * t);
-        Z1 += 0.00000089546 * Math.cos(5.65296765520 + 533.6231183577 * t);
-        Z1 += 0.00000081378 * Math.cos(6.14717900879 + 14.2270940016 * t);
-        Z1 += 0.00000074353 * Math.cos(2.14164008505 + 206.1855484372 * t);
-        Z1 += 0.00000069673 * Math.cos(4.30083628252 + 532.8723588323 * t);
-        Z1 += 0.00000062471 * Math.cos(4.30070044341 + 525.7588118315 * t);
-        Z1 += 0.00000057223 * Math.cos(1.37578902299 + 426.598190876 * t);
-        Z1 += 0.00000053295 * Math.cos(4.89194899977 + 1581.959348283 * t);
-        Z1 += 0.00000040084 * Math.cos(3.76141485240 + 625.6701923124 * t);
-        Z1 += 0.00000036247 * Math.cos(5.63125611734 + 1596.1864422846 * t);
-        Z1 += 0.00000035548 * Math.cos(1.83858046513 + 956.2891559706 * t);
-        Z1 += 0.00000041340 * Math.cos(4.43813420705 + 1045.1548361876 * t);
-        Z1 += 0.00000031563 * Math.cos(0.93258298806 + 95.9792272178 * t);
-        Z1 += 0.00000033208 * Math.cos(0.84342977892 + 117.3198682202 * t);
-        Z1 += 0.00000030354 * Math.cos(3.48783919024 + 639.897286314 * t);
-        Z1 += 0.00000030115 * Math.cos(5.67382431748 + 1265.5674786264 * t);
-        Z1 += 0.00000025977 * Math.cos(2.95191149293 + 942.062061969 * t);
-        Z1 += 0.00000033745 * Math.cos(3.93467189724 + 2118.7638603784 * t);
-        Z1 += 0.00000022626 * Math.cos(5.48825527865 + 433.7117378768 * t);
-        Z1 += 0.00000019878 * Math.cos(4.91628562475 + 220.4126424388 * t);
-        Z1 += 0.00000017659 * Math.cos(4.23943297681 + 1169.5882514086 * t);
-        Z1 += 0.00000018816 * Math.cos(4.88638541834 + 1155.361157407 * t);
-        Z1 += 0.00000013710 * Math.cos(0.75869975183 + 853.196381752 * t);
-        Z1 += 0.00000011629 * Math.cos(5.82902179758 + 330.6189636582 * t);
-        Z1 += 0.00000009953 * Math.cos(3.77150415749 + 1478.8665740644 * t);
-        Z1 += 0.00000009435 * Math.cos(5.19056014088 + 412.3710968744 * t);
-        Z1 += 0.00000007949 * Math.cos(5.09235140984 + 1073.6090241908 * t);
-        Z1 += 0.00000007394 * Math.cos(3.77882877747 + 742.9900605326 * t);
-        Z1 += 0.00000006394 * Math.cos(1.73926334857 + 199.0720014364 * t);
-        Z1 += 0.00000007268 * Math.cos(1.08212079652 + 309.2783226558 * t);
-        Z1 += 0.00000006126 * Math.cos(5.65302722173 + 508.3503240922 * t);
-        Z1 += 0.00000005709 * Math.cos(5.24271332802 + 1692.1656695024 * t);
-        Z1 += 0.00000004446 * Math.cos(0.13248846755 + 1063.3140834523 * t);
-        Z1 += 0.00000004664 * Math.cos(6.01570799148 + 1795.258443721 * t);
-        Z1 += 0.00000004631 * Math.cos(2.23071927945 + 1368.660252845 * t);
-        Z1 += 0.00000005404 * Math.cos(4.55754877469 + 728.762966531 * t);
-        Z1 += 0.00000003944 * Math.cos(6.15098833747 + 519.3960243561 * t);
-        Z1 += 0.00000004113 * Math.cos(6.19598758673 + 3.1813937377 * t);
-        Z1 += 0.00000003543 * Math.cos(3.09506092197 + 618.5566453116 * t);
-        Z1 += 0.00000003392 * Math.cos(1.77987055903 + 1375.7737998458 * t);
-        Z1 += 0.00000003322 * Math.cos(4.96703910975 + 1062.5633239269 * t);
-        Z1 += 0.00000003774 * Math.cos(5.36462989641 + 2111.6503133776 * t);
-        Z1 += 0.00000003799 * Math.cos(5.83406327157 + 1056.2005364515 * t);
-        Z1 += 0.00000002813 * Math.cos(4.52082617477 + 1272.6810256272 * t);
-        Z1 += 0.00000002782 * Math.cos(4.79754662680 + 551.031606097 * t);
-        Z1 += 0.00000002602 * Math.cos(4.23853778386 + 1574.8458012822 * t);
-        Z1 += 0.00000002563 * Math.cos(4.89379767599 + 227.5261894396 * t);
-        Z1 += 0.00000002684 * Math.cos(4.21379358590 + 2648.454825473 * t);
-        Z1 += 0.00000002532 * Math.cos(4.43605994513 + 539.9859058331 * t);
-        Z1 += 0.00000002233 * Math.cos(3.23226667541 + 1685.0521225016 * t);
-        Z1 += 0.00000002724 * Math.cos(4.04040213922 + 74.7815985673 * t);
-        Z1 += 0.00000002366 * Math.cos(4.85623283641 + 1055.4497769261 * t);
-        Z1 += 0.00000002278 * Math.cos(2.57618076227 + 1485.9801210652 * t);
-        Z1 += 0.00000002080 * Math.cos(0.06312365899 + 2125.8774073792 * t);
-        Z1 += 0.00000002460 * Math.cos(1.72405831407 + 532.1386456494 * t);
-        Z1 += 0.00000001956 * Math.cos(2.23190744786 + 529.6427809848 * t);
-        Z1 += 0.00000001955 * Math.cos(5.42971857629 + 529.7391492044 * t);
-        Z1 += 0.00000002026 * Math.cos(1.92698506631 + 525.0250986486 * t);
-        Z1 += 0.00000001820 * Math.cos(6.00083773693 + 1258.4539316256 * t);
-        Z1 += 0.00000002478 * Math.cos(5.93625415892 + 527.2432845398 * t);
-        Z1 += 0.00000001744 * Math.cos(4.12331874845 + 440.8252848776 * t);
-        Z1 += 0.00000002234 * Math.cos(0.54491713117 + 380.12776796 * t);
-        Z1 += 0.00000002181 * Math.cos(6.14968267326 + 149.5631971346 * t);
-        Z1 += 0.00000001629 * Math.cos(4.73547025109 + 1699.2792165032 * t);
-        Z1 += 0.00000001576 * Math.cos(5.79923230523 + 838.9692877504 * t);
-        Z1 += 0.00000001718 * Math.cos(1.47385390454 + 831.8557407496 * t);
-        Z1 += 0.00000002078 * Math.cos(0.02343346752 + 21.3406410024 * t);
-        Z1 += 0.00000001415 * Math.cos(6.10139082852 + 2428.0421830342 * t);
-        Z1 += 0.00000001549 * Math.cos(5.09589374634 + 528.7277572481 * t);
-        Z1 += 0.00000001415 * Math.cos(2.35346960340 + 534.3568315406 * t);
-        Z1 += 0.00000001305 * Math.cos(2.13001780938 + 302.164775655 * t);
-        Z1 += 0.00000001546 * Math.cos(2.56584512211 + 530.6541729411 * t);
-        Z1 += 0.00000001225 * Math.cos(4.81644489422 + 535.107591066 * t);
-        Z1 += 0.00000001227 * Math.cos(4.63162956792 + 526.7702037878 * t);
-        Z1 += 0.00000001475 * Math.cos(3.64456015927 + 984.6003316219 * t);
-        Z1 += 0.00000001121 * Math.cos(3.02317463559 + 2001.4439921582 * t);
-        Z1 += 0.00000001035 * Math.cos(3.65466665401 + 1471.7530270636 * t);
-        Z1 += 0.00000001161 * Math.cos(4.51697446536 + 1038.0412891868 * t);
-        Z1 += 0.00000001060 * Math.cos(3.43347467903 + 3.9321532631 * t);
-        Z1 += 0.00000001007 * Math.cos(4.35426216497 + 511.5317178299 * t);
-        Z1 += 0.00000001025 * Math.cos(2.87748450885 + 2317.8358618148 * t);
-        Z1 += 0.00000001112 * Math.cos(4.47223399610 + 750.1036075334 * t);
-        Z1 += 0.00000001226 * Math.cos(3.74723115522 + 38.1330356378 * t);
-        Z1 += 0.00000000876 * Math.cos(5.40141749419 + 524.2743391232 * t);
-        Z1 += 0.00000000809 * Math.cos(1.79288461783 + 2214.7430875962 * t);
-        Z1 += 0.00000000788 * Math.cos(5.94278119191 + 10.2949407385 * t);
-        Z1 += 0.00000000931 * Math.cos(1.41779899532 + 909.8187330546 * t);
-        Z1 += 0.00000000741 * Math.cos(1.37687026697 + 1382.8873468466 * t);
-        Z1 += 0.00000000670 * Math.cos(6.15206333598 + 547.8502123593 * t);
-        Z1 += 0.00000000688 * Math.cos(1.04145468936 + 1905.4647649404 * t);
-        Z1 += 0.00000000757 * Math.cos(5.66593038440 + 76.2660712756 * t);
-        Z1 += 0.00000000882 * Math.cos(4.49029761988 + 604.4725636619 * t);
-        Z1 += 0.00000000690 * Math.cos(3.49297492409 + 529.1697002328 * t);
-        Z1 += 0.00000000689 * Math.cos(3.98820790955 + 530.2122299564 * t);
-        Z1 += 0.00000000819 * Math.cos(2.95686029502 + 454.9093665273 * t);
-        Z1 += 0.00000000570 * Math.cos(1.96990183237 + 1898.3512179396 * t);
-        Z1 += 0.00000000690 * Math.cos(0.18267926862 + 6283.0758499914 * t);
-        Z1 += 0.00000000663 * Math.cos(4.55436664519 + 305.3461693927 * t);
-        Z1 += 0.00000000477 * Math.cos(2.44863388631 + 490.3340891794 * t);
-        Z1 += 0.00000000398 * Math.cos(4.50217443276 + 2008.557539159 * t);
-        Z1 += 0.00000000375 * Math.cos(1.90578907085 + 528.9402055692 * t);
-        Z1 += 0.00000000374 * Math.cos(5.57619428876 + 530.44172462 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 68 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00042203037 * Math.cos(1.45965899387 + 529.6909650946 * t);
-        Z2 -= 0.00006345355;
-        Z2 += 0.00003895469 * Math.cos(0.95407663893 + 522.5774180938 * t);
-        Z2 += 0.00002065004 * Math.cos(2.89817590660 + 536.8045120954 * t);
-        Z2 += 0.00000893912 * Math.cos(1.44537531474 + 1059.3819301892 * t);
-        Z2 += 0.00000193882 * Math.cos(0.40346918252 + 1052.2683831884 * t);
-        Z2 += 0.00000177093 * Math.cos(4.24934061763 + 7.1135470008 * t);
-        Z2 += 0.00000154339 * Math.cos(0.98627236886 + 515.463871093 * t);
-        Z2 += 0.00000119867 * Math.cos(3.48023127478 + 1066.49547719 * t);
-        Z2 += 0.00000071483 * Math.cos(2.91929643864 + 543.9180590962 * t);
-        Z2 += 0.00000058309 * Math.cos(5.21153342767 + 632.7837393132 * t);
-        Z2 += 0.00000049489 * Math.cos(1.90363556247 + 1589.0728952838 * t);
-        Z2 += 0.00000033191 * Math.cos(4.84947257364 + 949.1756089698 * t);
-        Z2 += 0.00000028865 * Math.cos(4.59812610654 + 110.2063212194 * t);
-        Z2 += 0.00000026279 * Math.cos(1.43562959449 + 526.5095713569 * t);
-        Z2 += 0.00000025332 * Math.cos(4.38538322886 + 14.2270940016 * t);
-        Z2 += 0.00000017862 * Math.cos(1.38653335267 + 533.6231183577 * t);
-        Z2 += 0.00000016652 * Math.cos(2.14142688267 + 316.3918696566 * t);
-        Z2 += 0.00000018475 * Math.cos(0.44768511310 + 419.4846438752 * t);
-        Z2 += 0.00000015818 * Math.cos(1.42318045904 + 103.0927742186 * t);
-        Z2 += 0.00000020087 * Math.cos(6.06937699639 + 735.8765135318 * t);
-        Z2 += 0.00000015944 * Math.cos(3.98909127597 + 323.5054166574 * t);
-        Z2 += 0.00000016057 * Math.cos(6.20772505653 + 1045.1548361876 * t);
-        Z2 += 0.00000012863 * Math.cos(4.00884384040 + 426.598190876 * t);
-        Z2 += 0.00000015906 * Math.cos(2.39783235711 + 532.8723588323 * t);
-        Z2 += 0.00000013892 * Math.cos(0.94813323601 + 213.299095438 * t);
-        Z2 += 0.00000010214 * Math.cos(0.99254309899 + 1162.4747044078 * t);
-        Z2 += 0.00000010216 * Math.cos(0.51784128572 + 1581.959348283 * t);
-        Z2 += 0.00000007926 * Math.cos(4.00901193840 + 1596.1864422846 * t);
-        Z2 += 0.00000007954 * Math.cos(3.77963260387 + 846.0828347512 * t);
-        Z2 += 0.00000009013 * Math.cos(2.24077766707 + 525.7588118315 * t);
-        Z2 += 0.00000009087 * Math.cos(5.73971133695 + 625.6701923124 * t);
-        Z2 += 0.00000006668 * Math.cos(4.76731608799 + 942.062061969 * t);
-        Z2 += 0.00000006568 * Math.cos(2.86210728523 + 95.9792272178 * t);
-        Z2 += 0.00000007860 * Math.cos(5.36569633982 + 117.3198682202 * t);
-        Z2 += 0.00000006892 * Math.cos(4.23401086250 + 206.1855484372 * t);
-        Z2 += 0.00000005090 * Math.cos(0.36658695963 + 1155.361157407 * t);
-        Z2 += 0.00000004274 * Math.cos(3.72888580140 + 433.7117378768 * t);
-        Z2 += 0.00000003753 * Math.cos(3.16074830315 + 220.4126424388 * t);
-        Z2 += 0.00000003669 * Math.cos(0.07721721390 + 956.2891559706 * t);
-        Z2 += 0.00000003591 * Math.cos(1.27574344579 + 508.3503240922 * t);
-        Z2 += 0.00000003432 * Math.cos(5.12494175250 + 742.9900605326 * t);
-        Z2 += 0.00000003262 * Math.cos(1.85564958119 + 639.897286314 * t);
-        Z2 += 0.00000003246 * Math.cos(2.42226150944 + 1169.5882514086 * t);
-        Z2 += 0.00000003879 * Math.cos(2.47671375339 + 2118.7638603784 * t);
-        Z2 += 0.00000002719 * Math.cos(3.57668078721 + 1073.6090241908 * t);
-        Z2 += 0.00000003564 * Math.cos(6.14378298704 + 728.762966531 * t);
-        Z2 += 0.00000002630 * Math.cos(1.72012208968 + 1265.5674786264 * t);
-        Z2 += 0.00000002800 * Math.cos(4.30633268838 + 330.6189636582 * t);
-        Z2 += 0.00000002361 * Math.cos(5.36600615712 + 853.196381752 * t);
-        Z2 += 0.00000002261 * Math.cos(1.65056479007 + 519.3960243561 * t);
-        Z2 += 0.00000002143 * Math.cos(3.59903064599 + 199.0720014364 * t);
-        Z2 += 0.00000002064 * Math.cos(0.72183122308 + 838.9692877504 * t);
-        Z2 += 0.00000002327 * Math.cos(1.57523321082 + 412.3710968744 * t);
-        Z2 += 0.00000001483 * Math.cos(5.22462726605 + 1478.8665740644 * t);
-        Z2 += 0.00000001392 * Math.cos(3.02125335643 + 551.031606097 * t);
-        Z2 += 0.00000001187 * Math.cos(1.24411330169 + 1258.4539316256 * t);
-        Z2 += 0.00000001238 * Math.cos(2.56643737684 + 539.9859058331 * t);
-        Z2 += 0.00000001019 * Math.cos(4.56433477067 + 21.3406410024 * t);
-        Z2 += 0.00000000787 * Math.cos(3.45332815915 + 227.5261894396 * t);
-        Z2 += 0.00000000789 * Math.cos(4.40210167179 + 3.1813937377 * t);
-        Z2 += 0.00000000933 * Math.cos(2.99359495481 + 309.2783226558 * t);
-        Z2 += 0.00000000668 * Math.cos(2.62794838154 + 440.8252848776 * t);
-        Z2 += 0.00000000701 * Math.cos(3.25895071673 + 1062.5633239269 * t);
-        Z2 += 0.00000000655 * Math.cos(2.81138161833 + 1485.9801210652 * t);
-        Z2 += 0.00000000530 * Math.cos(1.07172768238 + 1692.1656695024 * t);
-        Z2 += 0.00000000491 * Math.cos(1.99562035757 + 1368.660252845 * t);
-        Z2 += 0.00000000470 * Math.cos(0.26830712431 + 1272.6810256272 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 39 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00001302949 * Math.cos(3.38307505290 + 529.6909650946 * t);
-        Z3 += 0.00000638849 * Math.cos(2.73076320051 + 522.5774180938 * t);
-        Z3 += 0.00000252188 * Math.cos(1.03735897029 + 536.8045120954 * t);
-        Z3 += 0.00000042424 * Math.cos(2.76335793506 + 515.463871093 * t);
-        Z3 += 0.00000028787 * Math.cos(2.30679311994 + 1052.2683831884 * t);
-        Z3 += 0.00000018636 * Math.cos(1.12686228293 + 543.9180590962 * t);
-        Z3 += 0.00000016037 * Math.cos(1.78194169646 + 1066.49547719 * t);
-        Z3 -= 0.00000021893;
-        Z3 += 0.00000015010 * Math.cos(2.24882166949 + 7.1135470008 * t);
-        Z3 += 0.00000018770 * Math.cos(4.26444493597 + 1059.3819301892 * t);
-        Z3 += 0.00000005506 * Math.cos(2.63836917983 + 14.2270940016 * t);
-        Z3 += 0.00000004515 * Math.cos(1.81963459999 + 1045.1548361876 * t);
-        Z3 += 0.00000004499 * Math.cos(0.43487771424 + 632.7837393132 * t);
-        Z3 += 0.00000003150 * Math.cos(2.90272527852 + 110.2063212194 * t);
-        Z3 += 0.00000002649 * Math.cos(3.67990759642 + 419.4846438752 * t);
-        Z3 += 0.00000002448 * Math.cos(5.72936768843 + 103.0927742186 * t);
-        Z3 += 0.00000003025 * Math.cos(1.52033973511 + 735.8765135318 * t);
-        Z3 += 0.00000002257 * Math.cos(0.17284429054 + 949.1756089698 * t);
-        Z3 += 0.00000002354 * Math.cos(3.18232334886 + 526.5095713569 * t);
-        Z3 += 0.00000001614 * Math.cos(2.98017326384 + 508.3503240922 * t);
-        Z3 += 0.00000001671 * Math.cos(4.40642025933 + 532.8723588323 * t);
-        Z3 += 0.00000001483 * Math.cos(1.64073529408 + 625.6701923124 * t);
-        Z3 += 0.00000001665 * Math.cos(0.44117653607 + 1589.0728952838 * t);
-        Z3 += 0.00000001469 * Math.cos(3.11087801399 + 533.6231183577 * t);
-        Z3 += 0.00000001412 * Math.cos(0.26761069900 + 942.062061969 * t);
-        Z3 += 0.00000001270 * Math.cos(0.70083660931 + 426.598190876 * t);
-        Z3 += 0.00000000899 * Math.cos(2.62337071525 + 1596.1864422846 * t);
-        Z3 += 0.00000000951 * Math.cos(4.34670868038 + 525.7588118315 * t);
-        Z3 += 0.00000000973 * Math.cos(6.07278030998 + 639.897286314 * t);
-        Z3 += 0.00000000829 * Math.cos(2.20068062832 + 1581.959348283 * t);
-        Z3 += 0.00000001015 * Math.cos(3.67348757646 + 117.3198682202 * t);
-        Z3 += 0.00000000849 * Math.cos(1.53481384034 + 323.5054166574 * t);
-        Z3 += 0.00000000681 * Math.cos(1.96048278513 + 1073.6090241908 * t);
-        Z3 += 0.00000000665 * Math.cos(3.82697658502 + 316.3918696566 * t);
-        Z3 += 0.00000000609 * Math.cos(4.70141431381 + 95.9792272178 * t);
-        Z3 += 0.00000000518 * Math.cos(4.61207781194 + 2118.7638603784 * t);
-        Z3 += 0.00000000512 * Math.cos(5.55216613299 + 433.7117378768 * t);
-        Z3 += 0.00000000459 * Math.cos(3.26874502411 + 213.299095438 * t);
-        Z3 += 0.00000000401 * Math.cos(2.27671168160 + 1162.4747044078 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 11 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000078889 * Math.cos(4.52764322985 + 522.5774180938 * t);
-        Z4 += 0.00000028644 * Math.cos(4.45318845059 + 529.6909650946 * t);
-        Z4 += 0.00000026536;
-        Z4 += 0.00000023071 * Math.cos(5.44321158713 + 536.8045120954 * t);
-        Z4 += 0.00000009686 * Math.cos(4.52165553359 + 515.463871093 * t);
-        Z4 += 0.00000003848 * Math.cos(5.59513666444 + 543.9180590962 * t);
-        Z4 += 0.00000003620 * Math.cos(4.19174561337 + 1052.2683831884 * t);
-        Z4 += 0.00000000945 * Math.cos(5.96517767658 + 7.1135470008 * t);
-        Z4 += 0.00000000957 * Math.cos(6.25072054635 + 1066.49547719 * t);
-        Z4 += 0.00000000722 * Math.cos(3.64496080495 + 1059.3819301892 * t);
-        Z4 += 0.00000000582 * Math.cos(1.16718383135 + 14.2270940016 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 5 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000007519 * Math.cos(0.09198554072 + 522.5774180938 * t);
-        Z5 += 0.00000001913 * Math.cos(0.00874408003 + 515.463871093 * t);
-        Z5 += 0.00000001582 * Math.cos(3.27902945138 + 536.8045120954 * t);
-        Z5 += 0.00000000704 * Math.cos(0.27563461391 + 529.6909650946 * t);
-        Z5 += 0.00000000495 * Math.cos(1.29305954542 + 543.9180590962 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
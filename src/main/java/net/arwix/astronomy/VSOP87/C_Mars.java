@@ -1,8465 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   MARS - VSOP87 Series Version C
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX OF THE DATE
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 2000 BC < Date < 6000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class C_Mars {
-
-    static double X0(double t) // 1907 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 1.51664432758 * Math.cos(6.20347631684 + 3340.8562441833 * t);
-        X0 += 0.21337343470 * Math.cos(2.72390342700 + 0.2438174835 * t);
-        X0 += 0.07067734657 * Math.cos(0.25841679630 + 6681.46867088311 * t);
-        X0 += 0.00494034875 * Math.cos(0.59654023167 + 10022.0810975829 * t);
-        X0 += 0.00135189385 * Math.cos(0.59603904502 + 3340.36860921629 * t);
-        X0 += 0.00040927830 * Math.cos(0.93466338314 + 13362.6935242827 * t);
-        X0 += 0.00021051988 * Math.cos(1.80377821704 + 3337.33312583431 * t);
-        X0 += 0.00021027270 * Math.cos(1.17839785680 + 3344.3793625323 * t);
-        X0 += 0.00011370204 * Math.cos(4.83238126700 + 1059.6257476727 * t);
-        X0 += 0.00013426076 * Math.cos(0.63015591517 + 529.9347825781 * t);
-        X0 += 0.00006769403 * Math.cos(3.61729412618 + 3340.83899053111 * t);
-        X0 += 0.00006769355 * Math.cos(5.64806575768 + 3340.8734978355 * t);
-        X0 += 0.00008285925 * Math.cos(1.86109008374 + 2280.98667902709 * t);
-        X0 += 0.00005433910 * Math.cos(1.11806362109 + 2942.7072407751 * t);
-        X0 += 0.00004813330 * Math.cos(1.85023048147 + 3739.0052475915 * t);
-        X0 += 0.00004893493 * Math.cos(4.42760397790 + 5622.08674069391 * t);
-        X0 += 0.00005269759 * Math.cos(2.33019561512 + 6151.7777057885 * t);
-        X0 += 0.00003774767 * Math.cos(0.82510516838 + 6680.98103591609 * t);
-        X0 += 0.00003623045 * Math.cos(6.10862866873 + 796.5418242999 * t);
-        X0 += 0.00003725058 * Math.cos(1.27278649428 + 16703.3059509825 * t);
-        X0 += 0.00003767289 * Math.cos(1.22204844262 + 398.3928208917 * t);
-        X0 += 0.00002396177 * Math.cos(0.63496836160 + 3149.4079780717 * t);
-        X0 += 0.00002262756 * Math.cos(2.34867489134 + 3532.3045102949 * t);
-        X0 += 0.00001976674 * Math.cos(2.14058651048 + 6677.9455525341 * t);
-        X0 += 0.00002227632 * Math.cos(1.69533548136 + 3340.78893388051 * t);
-        X0 += 0.00002227573 * Math.cos(1.28683909451 + 3340.9235544861 * t);
-        X0 += 0.00001950645 * Math.cos(2.72809117200 + 2544.5582373669 * t);
-        X0 += 0.00002179897 * Math.cos(1.69534718656 + 6283.3196674749 * t);
-        X0 += 0.00001684046 * Math.cos(3.14928536452 + 5885.1706640667 * t);
-        X0 += 0.00002237564 * Math.cos(4.82103877835 + 8962.6991673937 * t);
-        X0 += 0.00001629438 * Math.cos(0.24065025766 + 4137.1542509997 * t);
-        X0 += 0.00001957286 * Math.cos(1.51885757913 + 6684.9917892321 * t);
-        X0 += 0.00001382161 * Math.cos(2.17182492289 + 1751.2957139325 * t);
-        X0 += 0.00001364523 * Math.cos(0.46059571034 + 2811.1652790887 * t);
-        X0 += 0.00001285835 * Math.cos(4.70544160337 + 1194.6908277081 * t);
-        X0 += 0.00001468951 * Math.cos(1.87682106061 + 3870.54720927791 * t);
-        X0 += 0.00001572210 * Math.cos(4.84784531890 + 1589.3167127673 * t);
-        X0 += 0.00000955879 * Math.cos(5.37058897391 + 426.8420083595 * t);
-        X0 += 0.00000819304 * Math.cos(5.15875122140 + 4400.2381743725 * t);
-        X0 += 0.00000714429 * Math.cos(2.92303461187 + 191.2044486281 * t);
-        X0 += 0.00000719663 * Math.cos(2.65486751128 + 9492.3901324883 * t);
-        X0 += 0.00000643260 * Math.cos(4.55789424001 + 5487.0216606585 * t);
-        X0 += 0.00000795172 * Math.cos(4.39660517598 + 5092.3957755993 * t);
-        X0 += 0.00000630906 * Math.cos(3.95541777233 + 6681.45141723091 * t);
-        X0 += 0.00000630906 * Math.cos(5.98618940383 + 6681.4859245353 * t);
-        X0 += 0.00000782173 * Math.cos(1.16801410137 + 5091.90814063229 * t);
-        X0 += 0.00000703756 * Math.cos(0.96657545612 + 213.5429129215 * t);
-        X0 += 0.00000581847 * Math.cos(3.95231836766 + 3185.43584474911 * t);
-        X0 += 0.00000553454 * Math.cos(5.31409832853 + 3496.2766436175 * t);
-        X0 += 0.00000663460 * Math.cos(3.74354794256 + 2544.07060239989 * t);
-        X0 += 0.00000491963 * Math.cos(2.17574433513 + 7079.61767429131 * t);
-        X0 += 0.00000426327 * Math.cos(5.14926594152 + 2145.92159899169 * t);
-        X0 += 0.00000533910 * Math.cos(3.30010366565 + 1592.8398311163 * t);
-        X0 += 0.00000386953 * Math.cos(5.07337650750 + 8433.00820229911 * t);
-        X0 += 0.00000417478 * Math.cos(3.96425682190 + 3339.8759231151 * t);
-        X0 += 0.00000417367 * Math.cos(5.30109299779 + 3341.83656525151 * t);
-        X0 += 0.00000359961 * Math.cos(1.61089747813 + 20043.9183776823 * t);
-        X0 += 0.00000352641 * Math.cos(3.88893523415 + 6254.8704800071 * t);
-        X0 += 0.00000351819 * Math.cos(5.16992059902 + 12303.3115940935 * t);
-        X0 += 0.00000321320 * Math.cos(1.94435133813 + 3554.1553396213 * t);
-        X0 += 0.00000377309 * Math.cos(4.13476329642 + 2146.4092339587 * t);
-        X0 += 0.00000307274 * Math.cos(0.94421931529 + 3127.5571487453 * t);
-        X0 += 0.00000284287 * Math.cos(2.03419702203 + 7.3573644843 * t);
-        X0 += 0.00000259684 * Math.cos(1.89385284662 + 1990.9888345245 * t);
-        X0 += 0.00000246886 * Math.cos(0.27164096909 + 1747.7725955835 * t);
-        X0 += 0.00000313688 * Math.cos(5.10599974151 + 4535.3032544079 * t);
-        X0 += 0.00000271483 * Math.cos(1.94778284200 + 6468.1695754451 * t);
-        X0 += 0.00000298122 * Math.cos(5.96616996596 + 5088.8726572503 * t);
-        X0 += 0.00000223194 * Math.cos(3.55284314213 + 3320.0808486909 * t);
-        X0 += 0.00000221461 * Math.cos(5.71228247661 + 3361.6316396757 * t);
-        X0 += 0.00000233899 * Math.cos(2.03689241948 + 9623.9320941747 * t);
-        X0 += 0.00000207617 * Math.cos(2.03345912239 + 6681.40136058031 * t);
-        X0 += 0.00000205148 * Math.cos(1.85775607260 + 10025.6042159319 * t);
-        X0 += 0.00000207784 * Math.cos(2.47827795124 + 10018.5579792339 * t);
-        X0 += 0.00000193198 * Math.cos(4.93193682847 + 2119.00767786191 * t);
-        X0 += 0.00000218630 * Math.cos(0.97526221043 + 6490.0204047715 * t);
-        X0 += 0.00000247990 * Math.cos(1.31792500524 + 2913.7704183403 * t);
-        X0 += 0.00000207617 * Math.cos(1.62496273555 + 6681.5359811859 * t);
-        X0 += 0.00000178587 * Math.cos(2.54120991611 + 1221.6047488379 * t);
-        X0 += 0.00000178400 * Math.cos(1.02824622233 + 10021.5934626159 * t);
-        X0 += 0.00000164293 * Math.cos(1.09050742498 + 4690.7236538421 * t);
-        X0 += 0.00000157091 * Math.cos(0.48700512124 + 2389.1378379327 * t);
-        X0 += 0.00000151308 * Math.cos(1.43281018748 + 4562.2171755377 * t);
-        X0 += 0.00000177027 * Math.cos(4.27007713386 + 2957.9597119601 * t);
-        X0 += 0.00000147685 * Math.cos(2.47506585562 + 7211.1596359777 * t);
-        X0 += 0.00000164646 * Math.cos(0.57567045734 + 7477.7666776995 * t);
-        X0 += 0.00000153884 * Math.cos(4.44526715317 + 640.1411037975 * t);
-        X0 += 0.00000157989 * Math.cos(4.99618947427 + 3723.7527764065 * t);
-        X0 += 0.00000146757 * Math.cos(4.41545990951 + 3337.26581553151 * t);
-        X0 += 0.00000166434 * Math.cos(3.16925511951 + 10213.5293636945 * t);
-        X0 += 0.00000146132 * Math.cos(4.84659253705 + 3344.4466728351 * t);
-        X0 += 0.00000118082 * Math.cos(4.29228989356 + 4562.70481050471 * t);
-        X0 += 0.00000119770 * Math.cos(4.65884659981 + 11773.6206289989 * t);
-        X0 += 0.00000113695 * Math.cos(2.49810201078 + 4292.5746504339 * t);
-        X0 += 0.00000143954 * Math.cos(5.36191839973 + 2787.2868413409 * t);
-        X0 += 0.00000113828 * Math.cos(3.49219829771 + 3333.7426971825 * t);
-        X0 += 0.00000112131 * Math.cos(0.07204419182 + 3205.7911641479 * t);
-        X0 += 0.00000144684 * Math.cos(1.67820772946 + 1349.62359217529 * t);
-        X0 += 0.00000118108 * Math.cos(5.18561000649 + 4929.92913946711 * t);
-        X0 += 0.00000106690 * Math.cos(2.90949586529 + 3475.92132421871 * t);
-        X0 += 0.00000120237 * Math.cos(3.40929466701 + 9225.7830907665 * t);
-        X0 += 0.00000119599 * Math.cos(3.90588399352 + 3894.4256470257 * t);
-        X0 += 0.00000104910 * Math.cos(5.51977893032 + 382.6527147397 * t);
-        X0 += 0.00000095920 * Math.cos(5.81540533813 + 3347.96979118411 * t);
-        X0 += 0.00000093778 * Math.cos(5.54256544882 + 1748.2602305505 * t);
-        X0 += 0.00000088754 * Math.cos(2.98682152461 + 12833.00255918811 * t);
-        X0 += 0.00000112794 * Math.cos(5.89797835701 + 155.17658195069 * t);
-        X0 += 0.00000091596 * Math.cos(3.08454019471 + 951.4745887671 * t);
-        X0 += 0.00000086667 * Math.cos(0.43803962703 + 3098.1276402093 * t);
-        X0 += 0.00000118500 * Math.cos(0.52380467505 + 7902.8296022375 * t);
-        X0 += 0.00000089906 * Math.cos(2.29494981588 + 2942.21960580809 * t);
-        X0 += 0.00000085205 * Math.cos(4.21443205483 + 2281.4743139941 * t);
-        X0 += 0.00000113660 * Math.cos(5.58557229219 + 5486.53402569149 * t);
-        X0 += 0.00000080640 * Math.cos(2.54197906469 + 3583.5848481573 * t);
-        X0 += 0.00000085344 * Math.cos(3.68498025243 + 4933.4522578161 * t);
-        X0 += 0.00000084447 * Math.cos(0.97974209820 + 6674.3551238823 * t);
-        X0 += 0.00000079513 * Math.cos(0.70956398510 + 5088.3850222833 * t);
-        X0 += 0.00000101901 * Math.cos(0.62374863015 + 529.44714761109 * t);
-        X0 += 0.00000073054 * Math.cos(5.03109665468 + 1052.51220067191 * t);
-        X0 += 0.00000073997 * Math.cos(5.88971113539 + 3767.4544350593 * t);
-        X0 += 0.00000070372 * Math.cos(4.49111053246 + 553.32558535889 * t);
-        X0 += 0.00000091916 * Math.cos(4.26029980883 + 9595.4829067069 * t);
-        X0 += 0.00000073607 * Math.cos(5.48588623719 + 7740.8506010723 * t);
-        X0 += 0.00000066068 * Math.cos(1.60352414710 + 1066.7392946735 * t);
-        X0 += 0.00000081219 * Math.cos(4.00417692850 + 2810.6776441217 * t);
-        X0 += 0.00000066430 * Math.cos(2.30115866241 + 2700.4713229023 * t);
-        X0 += 0.00000054145 * Math.cos(4.29245819665 + 6526.04827144891 * t);
-        X0 += 0.00000059768 * Math.cos(4.81363180968 + 6041.5713845691 * t);
-        X0 += 0.00000066173 * Math.cos(0.04112658538 + 10022.0983512351 * t);
-        X0 += 0.00000049883 * Math.cos(5.09321137459 + 3312.4070567155 * t);
-        X0 += 0.00000049178 * Math.cos(4.17234313530 + 3369.3054316511 * t);
-        X0 += 0.00000048202 * Math.cos(5.03755934935 + 397.9051859247 * t);
-        X0 += 0.00000047310 * Math.cos(5.51367266321 + 15643.9240207933 * t);
-        X0 += 0.00000048401 * Math.cos(1.00254354626 + 3.76693583251 * t);
-        X0 += 0.00000066173 * Math.cos(4.29354026107 + 10022.06384393071 * t);
-        X0 += 0.00000043167 * Math.cos(2.11330967332 + 4690.23601887509 * t);
-        X0 += 0.00000052329 * Math.cos(5.35612779574 + 7903.3172372045 * t);
-        X0 += 0.00000043258 * Math.cos(1.94634380811 + 149.8070146181 * t);
-        X0 += 0.00000053318 * Math.cos(2.50854201221 + 10420.23010099111 * t);
-        X0 += 0.00000038925 * Math.cos(5.63931982315 + 6682.44899195131 * t);
-        X0 += 0.00000043058 * Math.cos(2.71172733627 + 3325.6037729983 * t);
-        X0 += 0.00000042835 * Math.cos(0.27036084223 + 3356.10871536831 * t);
-        X0 += 0.00000049042 * Math.cos(5.09197877772 + 2273.8731320263 * t);
-        X0 += 0.00000045897 * Math.cos(1.73176272729 + 2288.1002260279 * t);
-        X0 += 0.00000036267 * Math.cos(1.94902636545 + 23384.5308043821 * t);
-        X0 += 0.00000050027 * Math.cos(4.92232111087 + 5621.5991057269 * t);
-        X0 += 0.00000041152 * Math.cos(3.60849241104 + 537.0483295789 * t);
-        X0 += 0.00000038722 * Math.cos(0.77097024087 + 522.8212355773 * t);
-        X0 += 0.00000044751 * Math.cos(4.31225718691 + 3077.77232081051 * t);
-        X0 += 0.00000031695 * Math.cos(4.22324584554 + 5629.2002876947 * t);
-        X0 += 0.00000031478 * Math.cos(2.26370333180 + 5331.6012612243 * t);
-        X0 += 0.00000033349 * Math.cos(2.12149635572 + 242.97242145751 * t);
-        X0 += 0.00000036130 * Math.cos(2.27448966151 + 9808.78200214491 * t);
-        X0 += 0.00000031660 * Math.cos(5.11359333219 + 2648.6986429565 * t);
-        X0 += 0.00000039058 * Math.cos(4.30336342995 + 6680.4883498149 * t);
-        X0 += 0.00000032374 * Math.cos(5.44019764272 + 7875.91568110771 * t);
-        X0 += 0.00000038493 * Math.cos(2.35050388066 + 6894.76776632111 * t);
-        X0 += 0.00000040044 * Math.cos(4.95433661511 + 3603.9401675561 * t);
-        X0 += 0.00000027893 * Math.cos(0.75588690511 + 7373.13863714289 * t);
-        X0 += 0.00000027665 * Math.cos(2.37934374634 + 12964.5445208745 * t);
-        X0 += 0.00000027878 * Math.cos(0.66739091469 + 1350.1112271423 * t);
-        X0 += 0.00000028322 * Math.cos(2.53961838260 + 8030.8484455749 * t);
-        X0 += 0.00000028486 * Math.cos(1.37297559963 + 5614.9731936931 * t);
-        X0 += 0.00000029761 * Math.cos(5.41923539807 + 3178.38960805111 * t);
-        X0 += 0.00000035657 * Math.cos(1.13413038335 + 8428.9974489831 * t);
-        X0 += 0.00000028159 * Math.cos(3.83299371524 + 3503.3228803155 * t);
-        X0 += 0.00000027295 * Math.cos(5.85818083120 + 213.0552779545 * t);
-        X0 += 0.00000024083 * Math.cos(4.10582287293 + 4033.0138454101 * t);
-        X0 += 0.00000023726 * Math.cos(3.79203465807 + 3320.50092478451 * t);
-        X0 += 0.00000023543 * Math.cos(5.47205540117 + 3361.2115635821 * t);
-        X0 += 0.00000024407 * Math.cos(1.62000405809 + 76.50988875911 * t);
-        X0 += 0.00000022360 * Math.cos(4.86162540597 + 15114.2330556987 * t);
-        X0 += 0.00000022681 * Math.cos(2.19545260317 + 13366.21664263171 * t);
-        X0 += 0.00000030767 * Math.cos(1.97333726282 + 102.84895673509 * t);
-        X0 += 0.00000023116 * Math.cos(4.24443125854 + 1692.40948698591 * t);
-        X0 += 0.00000024795 * Math.cos(2.94450891135 + 691.9137837433 * t);
-        X0 += 0.00000021819 * Math.cos(1.96227087233 + 10022.1484078857 * t);
-        X0 += 0.00000021420 * Math.cos(3.90434583630 + 6660.6932753907 * t);
-        X0 += 0.00000020686 * Math.cos(4.09172464650 + 1582.2031657665 * t);
-        X0 += 0.00000025165 * Math.cos(0.35004555829 + 3335.3333198759 * t);
-        X0 += 0.00000021819 * Math.cos(2.37076725917 + 10022.01378728011 * t);
-        X0 += 0.00000025110 * Math.cos(2.63051920012 + 3346.3791684907 * t);
-        X0 += 0.00000022778 * Math.cos(1.31432064900 + 9830.6328314713 * t);
-        X0 += 0.00000021875 * Math.cos(4.80561875471 + 11243.9296639043 * t);
-        X0 += 0.00000019487 * Math.cos(2.47923244785 + 3336.8454908673 * t);
-        X0 += 0.00000025048 * Math.cos(2.47380350738 + 1648.2029397139 * t);
-        X0 += 0.00000019285 * Math.cos(0.96932439937 + 3330.2195788335 * t);
-        X0 += 0.00000019206 * Math.cos(2.01113330365 + 3351.49290953311 * t);
-        X0 += 0.00000019577 * Math.cos(0.82781613472 + 6438.7400669091 * t);
-        X0 += 0.00000023713 * Math.cos(0.78696317220 + 796.0541893329 * t);
-        X0 += 0.00000018024 * Math.cos(0.80164082178 + 3.2793008655 * t);
-        X0 += 0.00000017457 * Math.cos(0.90670155624 + 6872.91693699471 * t);
-        X0 += 0.00000020758 * Math.cos(2.68199279076 + 2914.2580533073 * t);
-        X0 += 0.00000023325 * Math.cos(2.81224294003 + 1758.40926093329 * t);
-        X0 += 0.00000019762 * Math.cos(1.19465593585 + 2818.2788260895 * t);
-        X0 += 0.00000018903 * Math.cos(1.70198303484 + 3863.4336622771 * t);
-        X0 += 0.00000018548 * Math.cos(1.86435352340 + 3343.8917275653 * t);
-        X0 += 0.00000020024 * Math.cos(5.23513746258 + 9382.18381126891 * t);
-        X0 += 0.00000023004 * Math.cos(2.81536425224 + 13359.1704059337 * t);
-        X0 += 0.00000020686 * Math.cos(6.04843065741 + 6702.2440663755 * t);
-        X0 += 0.00000017546 * Math.cos(0.76946873055 + 3074.24920246151 * t);
-        X0 += 0.00000021953 * Math.cos(6.16726175116 + 10713.75106384269 * t);
-        X0 += 0.00000022478 * Math.cos(3.36629130965 + 3531.81687532789 * t);
-        X0 += 0.00000017443 * Math.cos(6.23925536469 + 7063.87756813929 * t);
-        X0 += 0.00000016475 * Math.cos(1.75316661727 + 8432.52056733209 * t);
-        X0 += 0.00000016284 * Math.cos(4.60826689329 + 6298.57213865991 * t);
-        X0 += 0.00000016296 * Math.cos(2.90679614817 + 10551.7720626775 * t);
-        X0 += 0.00000021367 * Math.cos(3.52004981807 + 4292.0870154669 * t);
-        X0 += 0.00000015862 * Math.cos(5.88391024825 + 3723.26514143949 * t);
-        X0 += 0.00000016182 * Math.cos(3.94577566715 + 7632.6994421667 * t);
-        X0 += 0.00000018728 * Math.cos(1.73152268876 + 4032.52621044309 * t);
-        X0 += 0.00000017711 * Math.cos(0.91113854617 + 10818.3791043993 * t);
-        X0 += 0.00000016214 * Math.cos(2.21183941484 + 3607.46328590511 * t);
-        X0 += 0.00000020207 * Math.cos(0.50430731047 + 2708.07250487011 * t);
-        X0 += 0.00000017851 * Math.cos(5.47859973724 + 6836.8890703173 * t);
-        X0 += 0.00000014367 * Math.cos(3.47695884338 + 8429.4850839501 * t);
-        X0 += 0.00000016523 * Math.cos(2.14637482599 + 6158.8912527893 * t);
-        X0 += 0.00000019608 * Math.cos(3.51602051779 + 853.4401992355 * t);
-        X0 += 0.00000014968 * Math.cos(1.03757514888 + 6531.9054737485 * t);
-        X0 += 0.00000013797 * Math.cos(2.36391887749 + 419.72846135871 * t);
-        X0 += 0.00000013414 * Math.cos(2.94536295838 + 3127.0695137783 * t);
-        X0 += 0.00000015245 * Math.cos(2.24543615829 + 7064.3652031063 * t);
-        X0 += 0.00000015674 * Math.cos(4.46460349265 + 3333.8100074853 * t);
-        X0 += 0.00000013513 * Math.cos(5.18432808372 + 6685.0590995349 * t);
-        X0 += 0.00000016177 * Math.cos(0.84378599845 + 5729.7502646325 * t);
-        X0 += 0.00000016167 * Math.cos(5.63583810469 + 6144.6641587877 * t);
-        X0 += 0.00000013924 * Math.cos(4.60961152326 + 12936.0953334067 * t);
-        X0 += 0.00000012758 * Math.cos(2.28807897894 + 3336.9749088253 * t);
-        X0 += 0.00000016755 * Math.cos(2.44526644281 + 3973.6399834965 * t);
-        X0 += 0.00000012740 * Math.cos(0.69410204881 + 3344.73757954131 * t);
-        X0 += 0.00000015216 * Math.cos(5.27437629135 + 5459.6201045617 * t);
-        X0 += 0.00000013755 * Math.cos(5.25003721422 + 433.9555553603 * t);
-        X0 += 0.00000013727 * Math.cos(5.70869872406 + 6127.8992680407 * t);
-        X0 += 0.00000016418 * Math.cos(5.42287303075 + 75.0254160508 * t);
-        X0 += 0.00000012379 * Math.cos(3.30493783022 + 2487.1722274643 * t);
-        X0 += 0.00000012121 * Math.cos(4.87336947084 + 3980.7535304973 * t);
-        X0 += 0.00000012145 * Math.cos(4.64108642144 + 3281.4823822697 * t);
-        X0 += 0.00000016915 * Math.cos(0.30896398254 + 10404.48999483909 * t);
-        X0 += 0.00000013732 * Math.cos(4.74929587262 + 6677.8782422313 * t);
-        X0 += 0.00000012163 * Math.cos(4.37039838160 + 10973.3118688665 * t);
-        X0 += 0.00000011839 * Math.cos(4.62276702188 + 3400.23010609691 * t);
-        X0 += 0.00000013460 * Math.cos(1.58419502448 + 1596.43025976811 * t);
-        X0 += 0.00000011950 * Math.cos(5.43572222924 + 1744.1821669317 * t);
-        X0 += 0.00000014031 * Math.cos(4.77979856866 + 8031.3360805419 * t);
-        X0 += 0.00000013621 * Math.cos(5.59064545004 + 3415.63784275061 * t);
-        X0 += 0.00000011890 * Math.cos(5.01320389678 + 4989.3030013807 * t);
-        X0 += 0.00000011133 * Math.cos(5.52124766174 + 8270.5415661669 * t);
-        X0 += 0.00000011115 * Math.cos(3.25426586017 + 6816.53375091851 * t);
-        X0 += 0.00000010961 * Math.cos(2.86101048703 + 110.45013870291 * t);
-        X0 += 0.00000012029 * Math.cos(4.05861575489 + 1751.7833488995 * t);
-        X0 += 0.00000012954 * Math.cos(4.66570452942 + 8969.8127143945 * t);
-        X0 += 0.00000012975 * Math.cos(3.69069473524 + 3266.074645616 * t);
-        X0 += 0.00000013898 * Math.cos(0.43379973859 + 6546.4035908477 * t);
-        X0 += 0.00000010787 * Math.cos(3.68885960945 + 11770.0975106499 * t);
-        X0 += 0.00000013676 * Math.cos(4.64950162211 + 3347.90248088131 * t);
-        X0 += 0.00000014429 * Math.cos(0.35374653823 + 6041.08374960209 * t);
-        X0 += 0.00000010265 * Math.cos(5.15008405880 + 5099.50932260011 * t);
-        X0 += 0.00000010855 * Math.cos(0.89301290681 + 3316.97780643551 * t);
-        X0 += 0.00000013203 * Math.cos(1.76870797269 + 8955.58562039291 * t);
-        X0 += 0.00000010750 * Math.cos(2.08914960461 + 3364.7346819311 * t);
-        X0 += 0.00000012106 * Math.cos(3.38174169479 + 6.86972951729 * t);
-        X0 += 0.00000010745 * Math.cos(3.32222106136 + 16173.6149858879 * t);
-        X0 += 0.00000010862 * Math.cos(6.16671167895 + 7633.1870771337 * t);
-        X0 += 0.00000013130 * Math.cos(6.21487916243 + 6688.5822178839 * t);
-        X0 += 0.00000012618 * Math.cos(2.02052426773 + 3443.94901840191 * t);
-        X0 += 0.00000010348 * Math.cos(0.91493796382 + 5884.68302909969 * t);
-        X0 += 0.00000011408 * Math.cos(0.87656413019 + 3237.7634699647 * t);
-        X0 += 0.00000010014 * Math.cos(4.92767694376 + 3893.93801205869 * t);
-        X0 += 0.00000013330 * Math.cos(2.96193815385 + 11371.4608722747 * t);
-        X0 += 0.00000009390 * Math.cos(3.13708066819 + 6151.2900708215 * t);
-        X0 += 0.00000009317 * Math.cos(6.04347781776 + 3304.8283775059 * t);
-        X0 += 0.00000009588 * Math.cos(3.93497646953 + 14584.5420906041 * t);
-        X0 += 0.00000009187 * Math.cos(3.22190702341 + 3376.88411086071 * t);
-        X0 += 0.00000008922 * Math.cos(4.01975646099 + 8274.0646845159 * t);
-        X0 += 0.00000012186 * Math.cos(1.30797225041 + 10014.9675505821 * t);
-        X0 += 0.00000008852 * Math.cos(2.35096921245 + 2921.37160030811 * t);
-        X0 += 0.00000011498 * Math.cos(3.39107154427 + 3024.4643745267 * t);
-        X0 += 0.00000008932 * Math.cos(2.04695690729 + 3340.4361680897 * t);
-        X0 += 0.00000008932 * Math.cos(0.93521735776 + 3341.27632027691 * t);
-        X0 += 0.00000010791 * Math.cos(1.20222738595 + 13362.2058893157 * t);
-        X0 += 0.00000010440 * Math.cos(5.86847040226 + 3657.24811383991 * t);
-        X0 += 0.00000010488 * Math.cos(2.33198909218 + 12168.2465140581 * t);
-        X0 += 0.00000007791 * Math.cos(3.37156314108 + 162.2228186487 * t);
-        X0 += 0.00000008278 * Math.cos(1.36101802767 + 6605.2025996075 * t);
-        X0 += 0.00000007730 * Math.cos(1.32895910157 + 7235.0380737255 * t);
-        X0 += 0.00000010793 * Math.cos(2.47932423892 + 135.30889751891 * t);
-        X0 += 0.00000009855 * Math.cos(2.07588323732 + 951.9622237341 * t);
-        X0 += 0.00000007570 * Math.cos(4.28016049737 + 1861.5020351519 * t);
-        X0 += 0.00000007347 * Math.cos(0.73950074439 + 3760.3408880585 * t);
-        X0 += 0.00000007458 * Math.cos(5.07772886658 + 11371.9485072417 * t);
-        X0 += 0.00000007415 * Math.cos(5.77777265612 + 10575.1628654583 * t);
-        X0 += 0.00000007387 * Math.cos(5.61828044516 + 7373.62627210991 * t);
-        X0 += 0.00000007330 * Math.cos(0.37925022199 + 13362.7107779349 * t);
-        X0 += 0.00000007563 * Math.cos(4.15753542979 + 3134.67069574611 * t);
-        X0 += 0.00000008273 * Math.cos(0.81705527879 + 633.0275567967 * t);
-        X0 += 0.00000009017 * Math.cos(4.88682687946 + 6784.5614451017 * t);
-        X0 += 0.00000007330 * Math.cos(4.63166389767 + 13362.6762706305 * t);
-        X0 += 0.00000006892 * Math.cos(3.80196693431 + 3170.1833735641 * t);
-        X0 += 0.00000009499 * Math.cos(1.85422005926 + 191.6920835951 * t);
-        X0 += 0.00000008390 * Math.cos(3.35818184456 + 12566.3955174663 * t);
-        X0 += 0.00000007258 * Math.cos(5.07622910043 + 3547.0417926205 * t);
-        X0 += 0.00000007563 * Math.cos(3.43861002197 + 3209.3142824969 * t);
-        X0 += 0.00000007609 * Math.cos(5.08370549642 + 3304.25087887911 * t);
-        X0 += 0.00000007490 * Math.cos(2.87715807563 + 6924.1972748571 * t);
-        X0 += 0.00000006532 * Math.cos(2.77753405872 + 1118.5119746193 * t);
-        X0 += 0.00000006446 * Math.cos(3.48151772817 + 3340.4263610566 * t);
-        X0 += 0.00000006446 * Math.cos(5.78384184406 + 3341.28612731 * t);
-        X0 += 0.00000008809 * Math.cos(3.95809596395 + 8827.6340873583 * t);
-        X0 += 0.00000006453 * Math.cos(5.46311522509 + 3511.5291148025 * t);
-        X0 += 0.00000007497 * Math.cos(4.18166418924 + 3377.4616094875 * t);
-        X0 += 0.00000006647 * Math.cos(1.41691169841 + 1376.0176173293 * t);
-        X0 += 0.00000006444 * Math.cos(2.33688278488 + 1479.11039154791 * t);
-        X0 += 0.00000006777 * Math.cos(5.65281173718 + 1194.2031927411 * t);
-        X0 += 0.00000006272 * Math.cos(1.03860361018 + 11243.44202893729 * t);
-        X0 += 0.00000007647 * Math.cos(5.81483718115 + 11081.46302777211 * t);
-        X0 += 0.00000006372 * Math.cos(2.85534407747 + 8827.14645239129 * t);
-        X0 += 0.00000008206 * Math.cos(5.35126987297 + 7234.5504387585 * t);
-        X0 += 0.00000006106 * Math.cos(0.08823631309 + 10184.06009874809 * t);
-        X0 += 0.00000006255 * Math.cos(2.84195845072 + 956.53297345411 * t);
-        X0 += 0.00000006895 * Math.cos(5.82543451964 + 3472.39820586971 * t);
-        X0 += 0.00000005956 * Math.cos(0.71294472658 + 641.12142486571 * t);
-        X0 += 0.00000006342 * Math.cos(5.95803230213 + 1162.7185218913 * t);
-        X0 += 0.00000008015 * Math.cos(5.74289052633 + 5828.2722891311 * t);
-        X0 += 0.00000006858 * Math.cos(1.37458045220 + 5085.2822285985 * t);
-        X0 += 0.00000005564 * Math.cos(4.52500489740 + 949.4194264533 * t);
-        X0 += 0.00000005685 * Math.cos(6.19978628309 + 13915.77529215809 * t);
-        X0 += 0.00000005989 * Math.cos(2.84289974537 + 13760.8425276909 * t);
-        X0 += 0.00000006614 * Math.cos(1.02737793204 + 5099.0216876331 * t);
-        X0 += 0.00000006046 * Math.cos(5.85461434376 + 18984.5364474931 * t);
-        X0 += 0.00000005388 * Math.cos(3.18378253913 + 1228.7182958387 * t);
-        X0 += 0.00000006477 * Math.cos(3.19289948037 + 2177.8939048085 * t);
-        X0 += 0.00000006716 * Math.cos(4.42516229875 + 5084.7945936315 * t);
-        X0 += 0.00000006834 * Math.cos(3.87407074810 + 6606.6870723158 * t);
-        X0 += 0.00000006185 * Math.cos(0.69582667501 + 220.6564599223 * t);
-        X0 += 0.00000005372 * Math.cos(1.74198025456 + 2766.5114458485 * t);
-        X0 += 0.00000006939 * Math.cos(5.44031621555 + 8329.9154280805 * t);
-        X0 += 0.00000005250 * Math.cos(4.43412282387 + 224.5886131854 * t);
-        X0 += 0.00000005178 * Math.cos(3.38283339119 + 3274.36883526891 * t);
-        X0 += 0.00000005636 * Math.cos(4.62896008864 + 9866.66069814871 * t);
-        X0 += 0.00000005018 * Math.cos(5.87780776958 + 3407.3436530977 * t);
-        X0 += 0.00000006287 * Math.cos(4.27847352716 + 2222.1004520805 * t);
-        X0 += 0.00000006027 * Math.cos(4.29283875964 + 3340.3513555641 * t);
-        X0 += 0.00000006581 * Math.cos(5.36035626468 + 38.3768531213 * t);
-        X0 += 0.00000006293 * Math.cos(5.74754269848 + 8440.1217492999 * t);
-        X0 += 0.00000004882 * Math.cos(2.57565728394 + 10404.9776298061 * t);
-        X0 += 0.00000004795 * Math.cos(1.93507580186 + 4407.3517213733 * t);
-        X0 += 0.00000006476 * Math.cos(4.86709384177 + 3297.1373318783 * t);
-        X0 += 0.00000006362 * Math.cos(4.39851396252 + 3384.5751564883 * t);
-        X0 += 0.00000005306 * Math.cos(4.27892955220 + 206.42936592071 * t);
-        X0 += 0.00000006484 * Math.cos(0.01882718386 + 7108.06686175911 * t);
-        X0 += 0.00000004752 * Math.cos(0.76109516197 + 6261.9840270079 * t);
-        X0 += 0.00000006261 * Math.cos(5.30955220110 + 1964.5948093705 * t);
-        X0 += 0.00000005039 * Math.cos(4.00989442055 + 6247.7569330063 * t);
-        X0 += 0.00000006027 * Math.cos(0.04042508285 + 3340.38586286849 * t);
-        X0 += 0.00000004586 * Math.cos(4.50717493600 + 6709.91785835091 * t);
-        X0 += 0.00000004635 * Math.cos(1.37708243435 + 263.3277408563 * t);
-        X0 += 0.00000004870 * Math.cos(5.44486723246 + 4393.1246273717 * t);
-        X0 += 0.00000006261 * Math.cos(4.40252342346 + 26088.1469590577 * t);
-        X0 += 0.00000004434 * Math.cos(4.89543652156 + 155.6642169177 * t);
-        X0 += 0.00000004383 * Math.cos(3.06060463606 + 6666.2161996981 * t);
-        X0 += 0.00000004389 * Math.cos(2.60327063667 + 13149.3944288447 * t);
-        X0 += 0.00000004433 * Math.cos(1.50884053543 + 2807.6421607397 * t);
-        X0 += 0.00000004980 * Math.cos(1.32305016589 + 5827.78465416409 * t);
-        X0 += 0.00000004443 * Math.cos(1.24237319799 + 3915.2010425181 * t);
-        X0 += 0.00000004299 * Math.cos(5.46246418866 + 8962.2115324267 * t);
-        X0 += 0.00000004356 * Math.cos(2.71657046567 + 10235.3801930209 * t);
-        X0 += 0.00000004498 * Math.cos(3.48518081494 + 553.8132203259 * t);
-        X0 += 0.00000005019 * Math.cos(2.56129005058 + 3738.51761262449 * t);
-        X0 += 0.00000004315 * Math.cos(4.84313966445 + 3877.6607562787 * t);
-        X0 += 0.00000004072 * Math.cos(1.76821812939 + 574.10098085129 * t);
-        X0 += 0.00000004107 * Math.cos(4.64137843892 + 10021.1007765147 * t);
-        X0 += 0.00000003964 * Math.cos(0.04229553627 + 3495.78900865049 * t);
-        X0 += 0.00000004785 * Math.cos(1.84722253955 + 2699.9786368011 * t);
-        X0 += 0.00000005396 * Math.cos(4.78692961565 + 14313.9242955663 * t);
-        X0 += 0.00000003822 * Math.cos(2.21613892883 + 3490.4194413179 * t);
-        X0 += 0.00000004095 * Math.cos(5.97738996422 + 10023.06141865111 * t);
-        X0 += 0.00000003697 * Math.cos(0.08404470764 + 6571.2623496637 * t);
-        X0 += 0.00000003779 * Math.cos(1.32451866449 + 13517.62628874989 * t);
-        X0 += 0.00000003860 * Math.cos(0.47636916025 + 6836.40143535029 * t);
-        X0 += 0.00000004702 * Math.cos(4.02327796277 + 2111.8941308611 * t);
-        X0 += 0.00000003630 * Math.cos(4.72154111022 + 11769.6098756829 * t);
-        X0 += 0.00000004499 * Math.cos(5.53792455232 + 13524.67252544789 * t);
-        X0 += 0.00000003497 * Math.cos(2.54545971953 + 6282.83203250789 * t);
-        X0 += 0.00000003489 * Math.cos(5.77181356746 + 11216.5281078075 * t);
-        X0 += 0.00000003591 * Math.cos(1.55498611814 + 3874.07032762691 * t);
-        X0 += 0.00000003976 * Math.cos(3.74269735212 + 2804.05173208791 * t);
-        X0 += 0.00000004680 * Math.cos(0.19530618850 + 10973.7995038335 * t);
-        X0 += 0.00000003961 * Math.cos(1.75399025490 + 6048.6849315699 * t);
-        X0 += 0.00000003954 * Math.cos(5.40430940067 + 6653.0194834153 * t);
-        X0 += 0.00000003352 * Math.cos(2.05742522098 + 8425.8946552983 * t);
-        X0 += 0.00000004016 * Math.cos(1.12722498592 + 3981.73385156551 * t);
-        X0 += 0.00000003356 * Math.cos(6.22809815165 + 9168.88471583091 * t);
-        X0 += 0.00000004260 * Math.cos(1.53810484916 + 3333.2550622155 * t);
-        X0 += 0.00000003936 * Math.cos(1.03505935194 + 6843.4476720483 * t);
-        X0 += 0.00000003767 * Math.cos(2.28715050291 + 26725.1432310819 * t);
-        X0 += 0.00000003388 * Math.cos(5.15160395842 + 18454.8454823985 * t);
-        X0 += 0.00000003337 * Math.cos(3.21108403976 + 13936.5506876505 * t);
-        X0 += 0.00000003230 * Math.cos(5.56219394317 + 262.84010588929 * t);
-        X0 += 0.00000004019 * Math.cos(0.60853180976 + 6696.72114206811 * t);
-        X0 += 0.00000003967 * Math.cos(1.75879114367 + 266.85085920531 * t);
-        X0 += 0.00000003932 * Math.cos(3.75548243540 + 2384.0794532457 * t);
-        X0 += 0.00000003087 * Math.cos(0.64142856871 + 5202.6020968187 * t);
-        X0 += 0.00000003922 * Math.cos(4.95967156091 + 4459.61203628611 * t);
-        X0 += 0.00000003717 * Math.cos(1.43162034575 + 2906.6568713395 * t);
-        X0 += 0.00000003266 * Math.cos(2.71766260163 + 16305.1569475743 * t);
-        X0 += 0.00000003104 * Math.cos(1.55447444218 + 5305.6948710373 * t);
-        X0 += 0.00000003000 * Math.cos(5.12142568188 + 10714.23869880971 * t);
-        X0 += 0.00000003921 * Math.cos(0.90004199829 + 10177.01386205009 * t);
-        X0 += 0.00000003084 * Math.cos(0.06473956323 + 1059.1381127057 * t);
-        X0 += 0.00000003253 * Math.cos(3.22894876740 + 5518.9939664753 * t);
-        X0 += 0.00000002861 * Math.cos(3.34583941548 + 1331.8110700573 * t);
-        X0 += 0.00000003304 * Math.cos(2.59879254413 + 8672.21368792411 * t);
-        X0 += 0.00000002975 * Math.cos(1.60725252181 + 10575.6505004253 * t);
-        X0 += 0.00000002756 * Math.cos(2.25672622330 + 6040.5910635009 * t);
-        X0 += 0.00000002950 * Math.cos(5.25312754456 + 6944.5525942559 * t);
-        X0 += 0.00000003005 * Math.cos(5.51425578501 + 2707.58486990309 * t);
-        X0 += 0.00000002717 * Math.cos(5.76321921177 + 6519.0020347509 * t);
-        X0 += 0.00000002801 * Math.cos(1.74557749980 + 16858.23871544969 * t);
-        X0 += 0.00000002897 * Math.cos(3.96845114135 + 2700.9589578693 * t);
-        X0 += 0.00000003274 * Math.cos(4.32367822866 + 2920.8839653411 * t);
-        X0 += 0.00000002645 * Math.cos(5.46774026264 + 5989.3110696563 * t);
-        X0 += 0.00000003228 * Math.cos(4.33146477085 + 647.25465079831 * t);
-        X0 += 0.00000002528 * Math.cos(1.65349433627 + 13171.2452581711 * t);
-        X0 += 0.00000003531 * Math.cos(4.66472793851 + 3190.80541208169 * t);
-        X0 += 0.00000002590 * Math.cos(0.13630377168 + 5725.1795149125 * t);
-        X0 += 0.00000002501 * Math.cos(4.63633723841 + 383.1403497067 * t);
-        X0 += 0.00000002483 * Math.cos(3.87259614726 + 3313.45468808651 * t);
-        X0 += 0.00000002456 * Math.cos(5.39283937660 + 3368.25780028011 * t);
-        X0 += 0.00000002450 * Math.cos(4.75373878367 + 5732.2930619133 * t);
-        X0 += 0.00000002623 * Math.cos(3.15434704817 + 16699.7828326335 * t);
-        X0 += 0.00000003010 * Math.cos(3.37698665041 + 2008.8013566425 * t);
-        X0 += 0.00000003148 * Math.cos(1.43176306010 + 3097.64000524229 * t);
-        X0 += 0.00000002412 * Math.cos(1.77643225234 + 3561.26888662211 * t);
-        X0 += 0.00000002837 * Math.cos(1.97746221043 + 4569.3307225385 * t);
-        X0 += 0.00000002416 * Math.cos(2.30120840231 + 13362.7608345855 * t);
-        X0 += 0.00000002532 * Math.cos(4.86337013936 + 6475.28312244591 * t);
-        X0 += 0.00000002407 * Math.cos(0.34730498643 + 134.8212625519 * t);
-        X0 += 0.00000002351 * Math.cos(4.11732696406 + 17925.1545173039 * t);
-        X0 += 0.00000003311 * Math.cos(3.56285236974 + 17277.16311435029 * t);
-        X0 += 0.00000002384 * Math.cos(5.99225497880 + 9485.2765854875 * t);
-        X0 += 0.00000002320 * Math.cos(5.45576909738 + 14712.5609339415 * t);
-        X0 += 0.00000002350 * Math.cos(1.08442308251 + 533.45790092711 * t);
-        X0 += 0.00000002433 * Math.cos(3.97615373043 + 3171.2760610503 * t);
-        X0 += 0.00000002860 * Math.cos(5.20645325605 + 4569.8183575055 * t);
-        X0 += 0.00000002382 * Math.cos(2.62777493812 + 15508.8589407579 * t);
-        X0 += 0.00000002274 * Math.cos(2.96629550939 + 6686.9915951905 * t);
-        X0 += 0.00000002448 * Math.cos(4.59094306357 + 6418.38474751031 * t);
-        X0 += 0.00000002223 * Math.cos(2.85609320263 + 10595.9382609507 * t);
-        X0 += 0.00000002362 * Math.cos(5.17828434191 + 6843.9353070153 * t);
-        X0 += 0.00000002247 * Math.cos(0.76007819691 + 3338.1047335723 * t);
-        X0 += 0.00000002247 * Math.cos(2.22209606814 + 3343.60775479431 * t);
-        X0 += 0.00000002877 * Math.cos(3.74013026534 + 3870.0595743109 * t);
-        X0 += 0.00000002167 * Math.cos(1.68859563420 + 2126.1212248627 * t);
-        X0 += 0.00000002861 * Math.cos(1.98905363521 + 3342.34071689161 * t);
-        X0 += 0.00000002948 * Math.cos(1.15364316687 + 6414.8616291613 * t);
-        X0 += 0.00000002832 * Math.cos(0.98955987530 + 3339.371771475 * t);
-        X0 += 0.00000002257 * Math.cos(3.99764421756 + 14054.8511255095 * t);
-        X0 += 0.00000002582 * Math.cos(2.53488965696 + 16706.8290693315 * t);
-        X0 += 0.00000002284 * Math.cos(5.29122374255 + 3510.4364273163 * t);
-        X0 += 0.00000002213 * Math.cos(1.07850009278 + 3120.4436017445 * t);
-        X0 += 0.00000002518 * Math.cos(5.12492489789 + 12722.7962379687 * t);
-        X0 += 0.00000002156 * Math.cos(5.25903110334 + 1795.5022612045 * t);
-        X0 += 0.00000002120 * Math.cos(0.29007019173 + 14712.07329897449 * t);
-        X0 += 0.00000002894 * Math.cos(6.25806113022 + 661.4767442645 * t);
-        X0 += 0.00000002197 * Math.cos(2.83017943957 + 7314.2524101963 * t);
-        X0 += 0.00000002352 * Math.cos(0.68899979183 + 6675.9457465757 * t);
-        X0 += 0.00000002592 * Math.cos(3.56656255149 + 846.3266522347 * t);
-        X0 += 0.00000002011 * Math.cos(5.67994909502 + 7800.22446298591 * t);
-        X0 += 0.00000002009 * Math.cos(4.22466408986 + 1592.3521961493 * t);
-        X0 += 0.00000001985 * Math.cos(1.24704608967 + 14158.9915310991 * t);
-        X0 += 0.00000002025 * Math.cos(3.15545503806 + 16460.08971204149 * t);
-        X0 += 0.00000002756 * Math.cos(1.37300158683 + 9872.5179004483 * t);
-        X0 += 0.00000002586 * Math.cos(4.03791457497 + 15110.7099373497 * t);
-        X0 += 0.00000001977 * Math.cos(2.37034987225 + 3340.3012989135 * t);
-        X0 += 0.00000002046 * Math.cos(5.79910745940 + 1214.4912018371 * t);
-        X0 += 0.00000002049 * Math.cos(1.54711450837 + 1545.1101654953 * t);
-        X0 += 0.00000002016 * Math.cos(5.80333241967 + 6701.8239902819 * t);
-        X0 += 0.00000002591 * Math.cos(1.78624782563 + 4459.12440131909 * t);
-        X0 += 0.00000001944 * Math.cos(1.56628544269 + 793.0187059509 * t);
-        X0 += 0.00000001969 * Math.cos(0.98471628518 + 8543.2145235185 * t);
-        X0 += 0.00000002221 * Math.cos(4.13093986960 + 6661.11335148431 * t);
-        X0 += 0.00000002185 * Math.cos(0.10437662983 + 10042.8564930753 * t);
-        X0 += 0.00000001909 * Math.cos(0.37281275566 + 14054.36349054249 * t);
-        X0 += 0.00000002355 * Math.cos(2.21625400824 + 6461.0560284443 * t);
-        X0 += 0.00000001945 * Math.cos(2.09907033054 + 12296.1980470927 * t);
-        X0 += 0.00000001856 * Math.cos(1.97074291339 + 3417.1223154589 * t);
-        X0 += 0.00000001964 * Math.cos(3.73559626157 + 3230.64992296391 * t);
-        X0 += 0.00000001841 * Math.cos(4.95467577248 + 16276.7077601065 * t);
-        X0 += 0.00000001867 * Math.cos(1.87467602822 + 6438.2524319421 * t);
-        X0 += 0.00000002124 * Math.cos(1.88480889248 + 14.47091148511 * t);
-        X0 += 0.00000001889 * Math.cos(2.84240400113 + 2946.2303591241 * t);
-        X0 += 0.00000002273 * Math.cos(4.24795887217 + 10001.3057020905 * t);
-        X0 += 0.00000001977 * Math.cos(1.96185346705 + 3340.43591951909 * t);
-        X0 += 0.00000001852 * Math.cos(4.40722802585 + 2751.79141717511 * t);
-        X0 += 0.00000001888 * Math.cos(2.02744109255 + 3502.8352453485 * t);
-        X0 += 0.00000001924 * Math.cos(2.83351941687 + 205.9417309537 * t);
-        X0 += 0.00000001900 * Math.cos(2.30804703412 + 9778.8648586419 * t);
-        X0 += 0.00000001840 * Math.cos(4.83205314537 + 6457.1238751812 * t);
-        X0 += 0.00000002215 * Math.cos(2.48697776679 + 9499.5036794891 * t);
-        X0 += 0.00000001806 * Math.cos(2.18544314025 + 2676.10019905331 * t);
-        X0 += 0.00000001805 * Math.cos(2.35009306355 + 6692.10533623291 * t);
-        X0 += 0.00000001869 * Math.cos(0.41860742717 + 13554.1417903943 * t);
-        X0 += 0.00000002416 * Math.cos(2.70970478916 + 13362.62621397991 * t);
-        X0 += 0.00000002281 * Math.cos(3.85791196552 + 6643.3356352453 * t);
-        X0 += 0.00000002183 * Math.cos(4.94105874519 + 21.0192129759 * t);
-        X0 += 0.00000001774 * Math.cos(0.68167607326 + 323.74923414091 * t);
-        X0 += 0.00000001748 * Math.cos(4.57092956799 + 5033.0219136857 * t);
-        X0 += 0.00000001767 * Math.cos(4.66859088892 + 4555.10362853689 * t);
-        X0 += 0.00000001973 * Math.cos(5.03143174563 + 12310.42514109431 * t);
-        X0 += 0.00000002109 * Math.cos(2.11500033422 + 7204.04608897691 * t);
-        X0 += 0.00000002169 * Math.cos(1.31433847015 + 3148.9203431047 * t);
-        X0 += 0.00000001672 * Math.cos(2.55080387851 + 6948.0757126049 * t);
-        X0 += 0.00000001685 * Math.cos(5.64872462506 + 1434.9038442759 * t);
-        X0 += 0.00000002274 * Math.cos(0.32514053197 + 17256.38771885789 * t);
-        X0 += 0.00000001724 * Math.cos(0.89161382376 + 103.3365917021 * t);
-        X0 += 0.00000001921 * Math.cos(1.09598172014 + 800.06494264891 * t);
-        X0 += 0.00000001651 * Math.cos(5.91048794937 + 6756.2502694504 * t);
-        X0 += 0.00000001660 * Math.cos(4.94562345671 + 9639.18456535971 * t);
-        X0 += 0.00000001575 * Math.cos(6.09206295741 + 7910.4307842053 * t);
-        X0 += 0.00000001556 * Math.cos(5.31271132117 + 743.23387801611 * t);
-        X0 += 0.00000001578 * Math.cos(2.33595912935 + 5614.48555872609 * t);
-        X0 += 0.00000002080 * Math.cos(2.73283134198 + 13119.47728534169 * t);
-        X0 += 0.00000002163 * Math.cos(0.52943676546 + 28.6930049513 * t);
-        X0 += 0.00000001532 * Math.cos(0.78840953974 + 4005.61228931331 * t);
-        X0 += 0.00000001548 * Math.cos(1.53438288417 + 6578.3758966645 * t);
-        X0 += 0.00000002036 * Math.cos(1.14812219907 + 9779.3524936089 * t);
-        X0 += 0.00000001534 * Math.cos(5.67314504699 + 2679.62331740231 * t);
-        X0 += 0.00000001855 * Math.cos(5.59012601568 + 1039.27042827391 * t);
-        X0 += 0.00000001554 * Math.cos(0.58249651167 + 14314.4119305333 * t);
-        X0 += 0.00000001555 * Math.cos(0.27389127072 + 10029.1946445837 * t);
-        X0 += 0.00000001553 * Math.cos(3.89948887717 + 4194.0526259353 * t);
-        X0 += 0.00000001869 * Math.cos(0.58467331713 + 3113.3801113943 * t);
-        X0 += 0.00000001547 * Math.cos(1.64100920813 + 13355.57997728191 * t);
-        X0 += 0.00000001463 * Math.cos(2.71025544519 + 3362.70707350971 * t);
-        X0 += 0.00000001463 * Math.cos(0.27191881986 + 3319.0054148569 * t);
-        X0 += 0.00000001468 * Math.cos(0.04316622889 + 632.5399218297 * t);
-        X0 += 0.00000001867 * Math.cos(3.32731443087 + 13892.3844893773 * t);
-        X0 += 0.00000001483 * Math.cos(5.79145984345 + 2604.9797306515 * t);
-        X0 += 0.00000001445 * Math.cos(5.72146800920 + 12994.9815603533 * t);
-        X0 += 0.00000001444 * Math.cos(5.09058625219 + 10018.4906689311 * t);
-        X0 += 0.00000001862 * Math.cos(1.31686189323 + 6670.8320055333 * t);
-        X0 += 0.00000001428 * Math.cos(6.05106658591 + 9468.51169474051 * t);
-        X0 += 0.00000001440 * Math.cos(3.90166704313 + 2641.5850959557 * t);
-        X0 += 0.00000001456 * Math.cos(4.84813606347 + 3929.9210711915 * t);
-        X0 += 0.00000001515 * Math.cos(4.40854499352 + 4922.8155924663 * t);
-        X0 += 0.00000001642 * Math.cos(1.18330968138 + 9070.3626913323 * t);
-        X0 += 0.00000001501 * Math.cos(0.37274885135 + 664.99986261351 * t);
-        X0 += 0.00000001434 * Math.cos(5.73698094815 + 3283.9578692477 * t);
-        X0 += 0.00000001756 * Math.cos(5.88702162431 + 4672.91113172411 * t);
-        X0 += 0.00000001552 * Math.cos(0.75524999537 + 9887.0160175475 * t);
-        X0 += 0.00000001430 * Math.cos(5.52560820233 + 10025.6715262347 * t);
-        X0 += 0.00000001459 * Math.cos(2.43643676312 + 2693.3577759015 * t);
-        X0 += 0.00000001423 * Math.cos(3.57254753277 + 19800.7021387413 * t);
-        X0 += 0.00000001403 * Math.cos(3.52793861890 + 3397.7546191189 * t);
-        X0 += 0.00000001451 * Math.cos(2.92581468083 + 13745.5900565059 * t);
-        X0 += 0.00000001366 * Math.cos(1.27672056082 + 4555.59126350391 * t);
-        X0 += 0.00000001580 * Math.cos(3.47199309807 + 699.02733074409 * t);
-        X0 += 0.00000001700 * Math.cos(2.39703980797 + 3568.3323769723 * t);
-        X0 += 0.00000001599 * Math.cos(5.02449812818 + 3212.83740084591 * t);
-        X0 += 0.00000001492 * Math.cos(3.59408030079 + 6155.3008241375 * t);
-        X0 += 0.00000001463 * Math.cos(2.61399249960 + 1015.4192004007 * t);
-        X0 += 0.00000001302 * Math.cos(5.67390860842 + 5625.6098590429 * t);
-        X0 += 0.00000001329 * Math.cos(6.06855511718 + 3334.1725803092 * t);
-        X0 += 0.00000001329 * Math.cos(3.19680445505 + 3347.53990805741 * t);
-        X0 += 0.00000001503 * Math.cos(0.26668514170 + 3378.98927982111 * t);
-        X0 += 0.00000001397 * Math.cos(3.16602524069 + 588.8210095247 * t);
-        X0 += 0.00000001500 * Math.cos(4.30672667001 + 3.6883357796 * t);
-        X0 += 0.00000001522 * Math.cos(4.24249365559 + 3468.8750875207 * t);
-        X0 += 0.00000001286 * Math.cos(1.87461279962 + 3152.93109642071 * t);
-        X0 += 0.00000001600 * Math.cos(1.40701843693 + 1905.70858242391 * t);
-        X0 += 0.00000001339 * Math.cos(2.85153623164 + 2699.49100183409 * t);
-        X0 += 0.00000001563 * Math.cos(4.74033234784 + 6674.4224341851 * t);
-        X0 += 0.00000001455 * Math.cos(5.62085725030 + 8800.2325312615 * t);
-        X0 += 0.00000001337 * Math.cos(3.86347754064 + 2277.4635606781 * t);
-        X0 += 0.00000001259 * Math.cos(3.26565882972 + 3742.5283659405 * t);
-        X0 += 0.00000001315 * Math.cos(0.15620262737 + 1191.1677093591 * t);
-        X0 += 0.00000001298 * Math.cos(3.23907368211 + 17395.4635522093 * t);
-        X0 += 0.00000001692 * Math.cos(1.98709811396 + 8646.30729773711 * t);
-        X0 += 0.00000001571 * Math.cos(5.17275397472 + 3451.0625654027 * t);
-        X0 += 0.00000001377 * Math.cos(2.49780736724 + 7255.3258342509 * t);
-        X0 += 0.00000001223 * Math.cos(2.13508431892 + 17654.5367222661 * t);
-        X0 += 0.00000001272 * Math.cos(6.25716699988 + 6997.8605405397 * t);
-        X0 += 0.00000001293 * Math.cos(5.24149508087 + 10125.1738718015 * t);
-        X0 += 0.00000001205 * Math.cos(2.87986284577 + 74.53778108379 * t);
-        X0 += 0.00000001193 * Math.cos(1.03222295834 + 6685.3500062411 * t);
-        X0 += 0.00000001184 * Math.cos(0.91434121954 + 2178.3815397755 * t);
-        X0 += 0.00000001175 * Math.cos(3.46872073630 + 4076.7327577151 * t);
-        X0 += 0.00000001203 * Math.cos(5.75196130140 + 11670.5278547803 * t);
-        X0 += 0.00000001334 * Math.cos(3.53686819132 + 59.13004443009 * t);
-        X0 += 0.00000001144 * Math.cos(0.93257993677 + 3191.29304704871 * t);
-        X0 += 0.00000001205 * Math.cos(4.89787234183 + 6688.51490758111 * t);
-        X0 += 0.00000001228 * Math.cos(1.09370444041 + 2391.6806352135 * t);
-        X0 += 0.00000001148 * Math.cos(4.01619565855 + 4886.21022716211 * t);
-        X0 += 0.00000001116 * Math.cos(6.08825399135 + 15.49628866851 * t);
-        X0 += 0.00000001253 * Math.cos(3.48476988361 + 66.2435914309 * t);
-        X0 += 0.00000001122 * Math.cos(5.35041736715 + 4040.12739241091 * t);
-        X0 += 0.00000001358 * Math.cos(3.77878000346 + 7895.7160552367 * t);
-        X0 += 0.00000001102 * Math.cos(3.98446017631 + 6365.0768012265 * t);
-        X0 += 0.00000001406 * Math.cos(4.37889002094 + 9588.3693597061 * t);
-        X0 += 0.00000001171 * Math.cos(5.20706500181 + 2772.0343701559 * t);
-        X0 += 0.00000001123 * Math.cos(5.00444898311 + 19402.55313533309 * t);
-        X0 += 0.00000001128 * Math.cos(4.98002753288 + 6622.0948089695 * t);
-        X0 += 0.00000001312 * Math.cos(5.17135511580 + 3311.4267356473 * t);
-        X0 += 0.00000001312 * Math.cos(4.09400445643 + 3370.2857527193 * t);
-        X0 += 0.00000001101 * Math.cos(5.78974461016 + 3774.56798206011 * t);
-        X0 += 0.00000001088 * Math.cos(3.28977902817 + 6148.2545874395 * t);
-        X0 += 0.00000001229 * Math.cos(2.53762292335 + 3145.8848597227 * t);
-        X0 += 0.00000001354 * Math.cos(0.93200823976 + 4136.66661603269 * t);
-        X0 += 0.00000001266 * Math.cos(5.61557722066 + 6887.6542193203 * t);
-        X0 += 0.00000001192 * Math.cos(3.10049513646 + 2284.5097973761 * t);
-        X0 += 0.00000001059 * Math.cos(5.93800224665 + 1198.21394605711 * t);
-        X0 += 0.00000001222 * Math.cos(4.54200893982 + 3184.4555236809 * t);
-        X0 += 0.00000001094 * Math.cos(3.07328576578 + 2074.8011305899 * t);
-        X0 += 0.00000001086 * Math.cos(4.32081022849 + 2325.1932262991 * t);
-        X0 += 0.00000001116 * Math.cos(5.86191156738 + 11611.1539928667 * t);
-        X0 += 0.00000001041 * Math.cos(2.09105531099 + 6684.5041542651 * t);
-        X0 += 0.00000001105 * Math.cos(6.08678077494 + 5618.5636223449 * t);
-        X0 += 0.00000001218 * Math.cos(3.59654741580 + 10157.14617761831 * t);
-        X0 += 0.00000001292 * Math.cos(0.40837478006 + 7909.94314923829 * t);
-        X0 += 0.00000001193 * Math.cos(2.62619989298 + 6677.5873355251 * t);
-        X0 += 0.00000001011 * Math.cos(0.31388757278 + 2494.28577446509 * t);
-        X0 += 0.00000001102 * Math.cos(5.26415591186 + 7321.36595719711 * t);
-        X0 += 0.00000001001 * Math.cos(1.63432488835 + 11766.5070819981 * t);
-        X0 += 0.00000001048 * Math.cos(4.13993269564 + 12721.32828193349 * t);
-        X0 += 0.00000000990 * Math.cos(5.95408825469 + 3181.91272640011 * t);
-        X0 += 0.00000001146 * Math.cos(4.72386914625 + 3497.2569646857 * t);
-        X0 += 0.00000000991 * Math.cos(1.49586957068 + 4140.6773693487 * t);
-        X0 += 0.00000001269 * Math.cos(5.19929518288 + 3188.95896309811 * t);
-        X0 += 0.00000001254 * Math.cos(4.92591337114 + 6034.4578375683 * t);
-        X0 += 0.00000001293 * Math.cos(1.92197905113 + 1.7282901918 * t);
-        X0 += 0.00000001206 * Math.cos(5.33211209828 + 6740.84253279671 * t);
-        X0 += 0.00000001073 * Math.cos(2.22955826533 + 9389.2973582697 * t);
-        X0 += 0.00000001361 * Math.cos(1.69731268075 + 9945.8150263073 * t);
-        X0 += 0.00000000977 * Math.cos(1.92768164917 + 3319.52060371631 * t);
-        X0 += 0.00000000977 * Math.cos(1.05449261588 + 3362.1918846503 * t);
-        X0 += 0.00000000969 * Math.cos(6.07412163761 + 1272.9248431107 * t);
-        X0 += 0.00000001176 * Math.cos(1.01032312893 + 9602.5964537077 * t);
-        X0 += 0.00000001347 * Math.cos(3.63306292592 + 19514.2274125877 * t);
-        X0 += 0.00000001073 * Math.cos(2.70812081471 + 6677.4579175671 * t);
-        X0 += 0.00000000968 * Math.cos(5.81625170021 + 522.3336006103 * t);
-        X0 += 0.00000001192 * Math.cos(3.92438816098 + 1222.09238380491 * t);
-        X0 += 0.00000001237 * Math.cos(5.72667761991 + 5835.38583613191 * t);
-        X0 += 0.00000001057 * Math.cos(1.29430538890 + 2597.3785486837 * t);
-        X0 += 0.00000000957 * Math.cos(0.10887247031 + 6645.4408042057 * t);
-        X0 += 0.00000000971 * Math.cos(0.15243087645 + 20809.2238071617 * t);
-        X0 += 0.00000000991 * Math.cos(2.10746769634 + 131.7857791699 * t);
-        X0 += 0.00000001159 * Math.cos(0.42658815264 + 9065.7919416123 * t);
-        X0 += 0.00000000943 * Math.cos(5.50078031935 + 3337.31587218211 * t);
-        X0 += 0.00000000943 * Math.cos(0.62298659929 + 3344.3966161845 * t);
-        X0 += 0.00000000929 * Math.cos(3.64745111813 + 4002.0891709643 * t);
-        X0 += 0.00000000977 * Math.cos(3.69400431600 + 2538.4923217371 * t);
-        X0 += 0.00000000938 * Math.cos(5.95942050303 + 931.60690433531 * t);
-        X0 += 0.00000001272 * Math.cos(2.46943992451 + 3302.7232085455 * t);
-        X0 += 0.00000000960 * Math.cos(4.05574189493 + 3909.6781182107 * t);
-        X0 += 0.00000000909 * Math.cos(3.63898193941 + 3326.62915018171 * t);
-        X0 += 0.00000000943 * Math.cos(4.87540027498 + 3344.36210888011 * t);
-        X0 += 0.00000000943 * Math.cos(1.24836664366 + 3337.3503794865 * t);
-        X0 += 0.00000000886 * Math.cos(0.45694838479 + 36.84918278771 * t);
-        X0 += 0.00000000890 * Math.cos(3.60250232314 + 169.3363656495 * t);
-        X0 += 0.00000000925 * Math.cos(3.39789693407 + 1486.2239385487 * t);
-        X0 += 0.00000001156 * Math.cos(4.57673762061 + 16061.94070863329 * t);
-        X0 += 0.00000000879 * Math.cos(5.66441531374 + 3355.0833381849 * t);
-        X0 += 0.00000000965 * Math.cos(4.35386546492 + 11614.6771112157 * t);
-        X0 += 0.00000000874 * Math.cos(3.48389519074 + 316.14805217309 * t);
-        X0 += 0.00000000896 * Math.cos(0.49130824985 + 2067.68758358909 * t);
-        X0 += 0.00000000856 * Math.cos(2.38006031197 + 6705.3471086309 * t);
-        X0 += 0.00000001200 * Math.cos(5.49932526392 + 2971.1564282429 * t);
-        X0 += 0.00000001091 * Math.cos(5.80152513875 + 9168.39708086389 * t);
-        X0 += 0.00000000871 * Math.cos(3.68107437791 + 9380.71585523369 * t);
-        X0 += 0.00000001070 * Math.cos(4.75389970378 + 426.3543733925 * t);
-        X0 += 0.00000001039 * Math.cos(1.92437940169 + 4937.0426864679 * t);
-        X0 += 0.00000000968 * Math.cos(0.44516536655 + 8959.1760490447 * t);
-        X0 += 0.00000000852 * Math.cos(0.05056797182 + 8013.52355842391 * t);
-        X0 += 0.00000000868 * Math.cos(4.22726507605 + 9947.2994990156 * t);
-        X0 += 0.00000000890 * Math.cos(0.04474613839 + 6747.9560797975 * t);
-        X0 += 0.00000000834 * Math.cos(2.38508120043 + 6681.0485947895 * t);
-        X0 += 0.00000001025 * Math.cos(2.15735900007 + 3914.71340755109 * t);
-        X0 += 0.00000000838 * Math.cos(3.57907497775 + 4672.42349675709 * t);
-        X0 += 0.00000000872 * Math.cos(5.33485611894 + 11780.7341759997 * t);
-        X0 += 0.00000000998 * Math.cos(4.91720456967 + 16335.59398705309 * t);
-        X0 += 0.00000000814 * Math.cos(4.96978756082 + 16703.28869733031 * t);
-        X0 += 0.00000001043 * Math.cos(4.06758688367 + 3492.7535252685 * t);
-        X0 += 0.00000000878 * Math.cos(3.45694168055 + 3233.19272024471 * t);
-        X0 += 0.00000000814 * Math.cos(0.71737388513 + 16703.3232046347 * t);
-        X0 += 0.00000000821 * Math.cos(1.52684790788 + 3323.04372206531 * t);
-        X0 += 0.00000000821 * Math.cos(1.45532635717 + 3358.6687663013 * t);
-        X0 += 0.00000000861 * Math.cos(6.07747716764 + 170.4290531357 * t);
-        X0 += 0.00000000895 * Math.cos(6.08078315422 + 8966.2222857427 * t);
-        X0 += 0.00000000809 * Math.cos(5.26204419900 + 1045.3986536711 * t);
-        X0 += 0.00000000986 * Math.cos(0.34218165194 + 9654.3691336535 * t);
-        X0 += 0.00000000841 * Math.cos(3.77708723958 + 13745.10242153889 * t);
-        X0 += 0.00000000792 * Math.cos(0.96214307294 + 7100.9533147583 * t);
-        X0 += 0.00000000779 * Math.cos(3.28806023341 + 3499.7997619665 * t);
-        X0 += 0.00000000841 * Math.cos(5.80837213979 + 3448.5197681219 * t);
-        X0 += 0.00000000788 * Math.cos(6.15063940263 + 14422.0754544719 * t);
-        X0 += 0.00000001013 * Math.cos(5.94832458905 + 8859.60639317511 * t);
-        X0 += 0.00000001009 * Math.cos(1.23105531513 + 6657.59023313531 * t);
-        X0 += 0.00000001030 * Math.cos(3.76569779004 + 3710.5560601237 * t);
-        X0 += 0.00000000787 * Math.cos(5.30046515807 + 3308.88393836651 * t);
-        X0 += 0.00000000787 * Math.cos(3.96489441416 + 3372.8285500001 * t);
-        X0 += 0.00000000731 * Math.cos(3.22922044128 + 2803.56409712089 * t);
-        X0 += 0.00000000725 * Math.cos(6.20613636370 + 3229.6696018957 * t);
-        X0 += 0.00000000749 * Math.cos(4.97775385354 + 4356.5192620675 * t);
-        X0 += 0.00000000720 * Math.cos(3.15038755289 + 3553.66770465429 * t);
-        X0 += 0.00000000818 * Math.cos(3.37077170078 + 802.1201049627 * t);
-        X0 += 0.00000000825 * Math.cos(5.84107737328 + 3253.5480396435 * t);
-        X0 += 0.00000000793 * Math.cos(2.67246545703 + 11.2895177474 * t);
-        X0 += 0.00000000864 * Math.cos(3.56004399666 + 6717.49653756051 * t);
-        X0 += 0.00000000969 * Math.cos(2.14091772308 + 20198.85114214949 * t);
-        X0 += 0.00000000917 * Math.cos(1.55560807260 + 4776.0039059427 * t);
-        X0 += 0.00000000729 * Math.cos(5.39749363536 + 22743.16556203289 * t);
-        X0 += 0.00000000730 * Math.cos(5.37089940702 + 1063.14886602171 * t);
-        X0 += 0.00000000860 * Math.cos(3.11478671194 + 242.4847864905 * t);
-        X0 += 0.00000000713 * Math.cos(3.97545007472 + 20597.0001455577 * t);
-        X0 += 0.00000000694 * Math.cos(3.05919399377 + 3452.04288647091 * t);
-        X0 += 0.00000000694 * Math.cos(3.98809162040 + 20426.8149099055 * t);
-        X0 += 0.00000000972 * Math.cos(1.98698742024 + 13916.2629271251 * t);
-        X0 += 0.00000000692 * Math.cos(3.93965986059 + 3068.1832868317 * t);
-        X0 += 0.00000000730 * Math.cos(2.57797232879 + 6016.7126257531 * t);
-        X0 += 0.00000000795 * Math.cos(3.42432574767 + 3428.16444872311 * t);
-        X0 += 0.00000000686 * Math.cos(4.76971489412 + 7255.8134692179 * t);
-        X0 += 0.00000000712 * Math.cos(5.60162243479 + 4143.2201666295 * t);
-        X0 += 0.00000000727 * Math.cos(3.20806928644 + 2301.8296333929 * t);
-        X0 += 0.00000000836 * Math.cos(3.67296892402 + 5642.4420600927 * t);
-        X0 += 0.00000000672 * Math.cos(1.47909475288 + 2541.03511901791 * t);
-        X0 += 0.00000000725 * Math.cos(3.81718268491 + 15907.0079441661 * t);
-        X0 += 0.00000000723 * Math.cos(5.49638926477 + 3735.48212924251 * t);
-        X0 += 0.00000000659 * Math.cos(1.96302087770 + 3929.4334362245 * t);
-        X0 += 0.00000000752 * Math.cos(2.52557851793 + 401.91593924071 * t);
-        X0 += 0.00000000790 * Math.cos(3.21400960006 + 10264.80970155691 * t);
-        X0 += 0.00000000833 * Math.cos(3.27818134172 + 6040.10342853389 * t);
-        X0 += 0.00000000652 * Math.cos(3.12933985544 + 3212.90471114871 * t);
-        X0 += 0.00000000634 * Math.cos(3.17304979978 + 17101.4549543907 * t);
-        X0 += 0.00000000636 * Math.cos(6.11222406149 + 17468.6113804619 * t);
-        X0 += 0.00000000831 * Math.cos(2.90780121075 + 2409.4931573315 * t);
-        X0 += 0.00000000670 * Math.cos(5.98800797760 + 15663.79170522509 * t);
-        X0 += 0.00000000636 * Math.cos(3.99964515410 + 5938.4786103505 * t);
-        X0 += 0.00000000767 * Math.cos(1.34735128779 + 16702.81831601549 * t);
-        X0 += 0.00000000649 * Math.cos(2.88860634271 + 485.72823530609 * t);
-        X0 += 0.00000000720 * Math.cos(4.17180002134 + 316.6356871401 * t);
-        X0 += 0.00000000685 * Math.cos(4.17683462000 + 1437.41943168211 * t);
-        X0 += 0.00000000874 * Math.cos(5.00761171285 + 3264.10253794069 * t);
-        X0 += 0.00000000631 * Math.cos(3.92104776965 + 3351.9019444472 * t);
-        X0 += 0.00000000631 * Math.cos(5.34431180258 + 3329.8105439194 * t);
-        X0 += 0.00000000617 * Math.cos(5.30944605959 + 3613.52920153491 * t);
-        X0 += 0.00000000631 * Math.cos(0.15035258857 + 3343.3990414641 * t);
-        X0 += 0.00000000834 * Math.cos(1.27334165089 + 6681.88874697671 * t);
-        X0 += 0.00000000618 * Math.cos(2.29471318966 + 6357.9632542257 * t);
-        X0 += 0.00000000620 * Math.cos(4.22618374757 + 2301.34199842589 * t);
-        X0 += 0.00000000619 * Math.cos(6.13399739970 + 3468.8077772179 * t);
-        X0 += 0.00000000856 * Math.cos(2.79699777939 + 6254.38284504009 * t);
-        X0 += 0.00000000779 * Math.cos(6.20441370524 + 22325.1488741929 * t);
-        X0 += 0.00000000621 * Math.cos(0.55328275382 + 22345.0165586247 * t);
-        X0 += 0.00000000683 * Math.cos(3.20202486335 + 3344.7883974464 * t);
-        X0 += 0.00000000683 * Math.cos(6.06333470888 + 3336.92409092021 * t);
-        X0 += 0.00000000637 * Math.cos(0.86301009432 + 151.2914873264 * t);
-        X0 += 0.00000000600 * Math.cos(2.64922528930 + 3338.31344690251 * t);
-        X0 += 0.00000000737 * Math.cos(2.16246318145 + 3116.0238135144 * t);
-        X0 += 0.00000000843 * Math.cos(0.53396130094 + 24149.8362338615 * t);
-        X0 += 0.00000000595 * Math.cos(2.29953648123 + 4039.6397574439 * t);
-        X0 += 0.00000000621 * Math.cos(0.40498928750 + 10448.6792884589 * t);
-        X0 += 0.00000000649 * Math.cos(6.17082186672 + 148.32254190981 * t);
-        X0 += 0.00000000706 * Math.cos(4.51954003602 + 6718.0740361873 * t);
-        X0 += 0.00000000615 * Math.cos(2.10277179076 + 1169.83206889211 * t);
-        X0 += 0.00000000597 * Math.cos(3.77194671714 + 2494.77340943211 * t);
-        X0 += 0.00000000580 * Math.cos(1.12862006570 + 3528.7813919459 * t);
-        X0 += 0.00000000680 * Math.cos(2.77754353712 + 1990.5011995575 * t);
-        X0 += 0.00000000593 * Math.cos(3.34298351276 + 9491.90249752129 * t);
-        X0 += 0.00000000704 * Math.cos(2.61371769364 + 3547.5569814799 * t);
-        X0 += 0.00000000602 * Math.cos(6.12196613719 + 6681.8985540098 * t);
-        X0 += 0.00000000750 * Math.cos(2.93237946903 + 6020.2357441021 * t);
-        X0 += 0.00000000672 * Math.cos(1.12165707971 + 6667.2415768815 * t);
-        X0 += 0.00000000691 * Math.cos(1.16386423121 + 6679.9841981748 * t);
-        X0 += 0.00000000644 * Math.cos(1.94503669392 + 4290.0318531531 * t);
-        X0 += 0.00000000778 * Math.cos(2.85190829858 + 394.86970254271 * t);
-        X0 += 0.00000000606 * Math.cos(5.75275909849 + 736.1203310153 * t);
-        X0 += 0.00000000620 * Math.cos(2.39266198193 + 1265.81129610991 * t);
-        X0 += 0.00000000610 * Math.cos(4.41144858406 + 18451.3223640495 * t);
-        X0 += 0.00000000602 * Math.cos(6.04397580328 + 20.11150191529 * t);
-        X0 += 0.00000000579 * Math.cos(1.80661717855 + 2391.1930002465 * t);
-        X0 += 0.00000000574 * Math.cos(0.81989247879 + 9381.69617630189 * t);
-        X0 += 0.00000000585 * Math.cos(5.02389462382 + 2170.7803578077 * t);
-        X0 += 0.00000000610 * Math.cos(0.51796263381 + 9911.8747763635 * t);
-        X0 += 0.00000000648 * Math.cos(2.64891747863 + 4133.6311326507 * t);
-        X0 += 0.00000000583 * Math.cos(4.50653081612 + 8226.8226538619 * t);
-        X0 += 0.00000000602 * Math.cos(4.20891405026 + 2854.8841913937 * t);
-        X0 += 0.00000000555 * Math.cos(5.99624223583 + 16865.28495214769 * t);
-        X0 += 0.00000000600 * Math.cos(4.73583940116 + 6725.18758318811 * t);
-        X0 += 0.00000000766 * Math.cos(4.61041261070 + 4775.5162709757 * t);
-        X0 += 0.00000000577 * Math.cos(4.65659204889 + 3184.9482097821 * t);
-        X0 += 0.00000000587 * Math.cos(5.57127850279 + 3194.0445576597 * t);
-        X0 += 0.00000000613 * Math.cos(3.89681403357 + 6549.9267091967 * t);
-        X0 += 0.00000000696 * Math.cos(0.15859294835 + 19004.4041319249 * t);
-        X0 += 0.00000000634 * Math.cos(4.14004370715 + 6510.7958002639 * t);
-        X0 += 0.00000000634 * Math.cos(1.16000431262 + 52176.0501006319 * t);
-        X0 += 0.00000000603 * Math.cos(2.33995115129 + 7896.20369020371 * t);
-        X0 += 0.00000000658 * Math.cos(2.46906007046 + 4988.8153664137 * t);
-        X0 += 0.00000000602 * Math.cos(3.81964202131 + 6681.0387877564 * t);
-        X0 += 0.00000000520 * Math.cos(2.82724916780 + 6467.68194047809 * t);
-        X0 += 0.00000000522 * Math.cos(5.42478409574 + 3339.67560153121 * t);
-        X0 += 0.00000000522 * Math.cos(3.84057547649 + 3342.03688683541 * t);
-        X0 += 0.00000000528 * Math.cos(4.56727960946 + 109.9625037359 * t);
-        X0 += 0.00000000518 * Math.cos(5.72791791977 + 1588.82907780029 * t);
-        X0 += 0.00000000553 * Math.cos(3.69268120443 + 3487.66793070691 * t);
-        X0 += 0.00000000513 * Math.cos(0.64641381344 + 299.37021175271 * t);
-        X0 += 0.00000000715 * Math.cos(1.53227325055 + 4503.3309485911 * t);
-        X0 += 0.00000000511 * Math.cos(2.84483152183 + 16490.0068555445 * t);
-        X0 += 0.00000000505 * Math.cos(4.83997458246 + 1063.55790093581 * t);
-        X0 += 0.00000000698 * Math.cos(6.07857734312 + 43.9627297885 * t);
-        X0 += 0.00000000609 * Math.cos(0.36018986098 + 3134.1555068867 * t);
-        X0 += 0.00000000645 * Math.cos(5.62278484839 + 1641.08939271309 * t);
-        X0 += 0.00000000542 * Math.cos(4.52460942145 + 1596.36294946531 * t);
-        X0 += 0.00000000502 * Math.cos(5.53009144929 + 12323.17927852529 * t);
-        X0 += 0.00000000569 * Math.cos(1.24397627234 + 7380.2521841437 * t);
-        X0 += 0.00000000530 * Math.cos(1.06670380363 + 1699.5230339867 * t);
-        X0 += 0.00000000491 * Math.cos(5.38693036025 + 11140.8368896857 * t);
-        X0 += 0.00000000518 * Math.cos(5.49646744261 + 3443.46138343489 * t);
-        X0 += 0.00000000545 * Math.cos(2.20958810438 + 2288.58786099491 * t);
-        X0 += 0.00000000509 * Math.cos(5.97803958339 + 6813.0106325695 * t);
-        X0 += 0.00000000489 * Math.cos(3.06702523150 + 13575.9926197207 * t);
-        X0 += 0.00000000486 * Math.cos(1.17003274180 + 2274.3607669933 * t);
-        X0 += 0.00000000579 * Math.cos(4.18326711934 + 10177.5014970171 * t);
-        X0 += 0.00000000535 * Math.cos(4.96826186440 + 9072.90548861311 * t);
-        X0 += 0.00000000536 * Math.cos(0.22940923175 + 3198.6776171471 * t);
-        X0 += 0.00000000478 * Math.cos(5.77347222021 + 114.6429243969 * t);
-        X0 += 0.00000000619 * Math.cos(4.96804844467 + 13207.27312484851 * t);
-        X0 += 0.00000000527 * Math.cos(3.25574629584 + 3392.13658204571 * t);
-        X0 += 0.00000000527 * Math.cos(6.00961327639 + 3289.5759063209 * t);
-        X0 += 0.00000000491 * Math.cos(1.56769780695 + 3393.1165590961 * t);
-        X0 += 0.00000000491 * Math.cos(1.41447645810 + 3288.5959292705 * t);
-        X0 += 0.00000000518 * Math.cos(5.06326236759 + 3826.82829697291 * t);
-        X0 += 0.00000000532 * Math.cos(1.66587585857 + 1055.6935944096 * t);
-        X0 += 0.00000000475 * Math.cos(2.35694443121 + 8116.6163326425 * t);
-        X0 += 0.00000000473 * Math.cos(3.22587789900 + 4297.14540015391 * t);
-        X0 += 0.00000000483 * Math.cos(0.44610561215 + 131.29814420289 * t);
-        X0 += 0.00000000483 * Math.cos(5.34340560368 + 3346.9221598131 * t);
-        X0 += 0.00000000483 * Math.cos(3.92195396855 + 3334.79032855351 * t);
-        X0 += 0.00000000460 * Math.cos(1.30188709712 + 2281.00393267929 * t);
-        X0 += 0.00000000460 * Math.cos(5.55430077281 + 2280.9694253749 * t);
-        X0 += 0.00000000488 * Math.cos(5.88179921344 + 5195.48854981791 * t);
-        X0 += 0.00000000604 * Math.cos(0.33182831620 + 2373.8853667477 * t);
-        X0 += 0.00000000491 * Math.cos(5.58315217747 + 11251.04321090511 * t);
-        X0 += 0.00000000482 * Math.cos(2.83595657742 + 23.63462026429 * t);
-        X0 += 0.00000000455 * Math.cos(4.28453161275 + 8962.7164210459 * t);
-        X0 += 0.00000000455 * Math.cos(2.25375998126 + 8962.68191374151 * t);
-        X0 += 0.00000000455 * Math.cos(3.21511534225 + 5408.78764525591 * t);
-        X0 += 0.00000000458 * Math.cos(1.20850177387 + 6313.7567069537 * t);
-        X0 += 0.00000000525 * Math.cos(0.42290029660 + 3535.8276286439 * t);
-        X0 += 0.00000000506 * Math.cos(2.75255831190 + 3483.03487121951 * t);
-        X0 += 0.00000000453 * Math.cos(3.59219997124 + 2957.9769656123 * t);
-        X0 += 0.00000000633 * Math.cos(0.33856779888 + 2963.4826362675 * t);
-        X0 += 0.00000000532 * Math.cos(2.38112136358 + 11773.13299403189 * t);
-        X0 += 0.00000000502 * Math.cos(4.62390876188 + 5562.7128787803 * t);
-        X0 += 0.00000000487 * Math.cos(5.66137463397 + 2548.0813557159 * t);
-        X0 += 0.00000000604 * Math.cos(4.92504643981 + 3311.3644258799 * t);
-        X0 += 0.00000000604 * Math.cos(4.34031313242 + 3370.34806248671 * t);
-        X0 += 0.00000000448 * Math.cos(4.97947122194 + 13361.7132032145 * t);
-        X0 += 0.00000000455 * Math.cos(2.05317333710 + 227.7199502725 * t);
-        X0 += 0.00000000500 * Math.cos(2.53819791260 + 4819.7228182477 * t);
-        X0 += 0.00000000452 * Math.cos(6.19160666400 + 6851.04885401611 * t);
-        X0 += 0.00000000503 * Math.cos(3.23595850746 + 382.6354610875 * t);
-        X0 += 0.00000000440 * Math.cos(4.69308097742 + 3565.2010398852 * t);
-        X0 += 0.00000000607 * Math.cos(3.16411651832 + 5195.0009148509 * t);
-        X0 += 0.00000000477 * Math.cos(5.99667940023 + 4379.8828549737 * t);
-        X0 += 0.00000000468 * Math.cos(5.32421647470 + 4186.9390789345 * t);
-        X0 += 0.00000000474 * Math.cos(1.58560587121 + 2295.2137730287 * t);
-        X0 += 0.00000000430 * Math.cos(1.74064675227 + 4716.63004402911 * t);
-        X0 += 0.00000000536 * Math.cos(3.39391143643 + 860.55374623631 * t);
-        X0 += 0.00000000561 * Math.cos(0.07745940312 + 4272.21933103511 * t);
-        X0 += 0.00000000427 * Math.cos(3.93324943357 + 1575.08961876571 * t);
-        X0 += 0.00000000456 * Math.cos(3.39763687697 + 10006.8286263979 * t);
-        X0 += 0.00000000455 * Math.cos(3.65437854757 + 1854.38848815109 * t);
-        X0 += 0.00000000421 * Math.cos(3.47192756045 + 5753.6287023803 * t);
-        X0 += 0.00000000539 * Math.cos(2.16591609141 + 3185.5031550519 * t);
-        X0 += 0.00000000440 * Math.cos(2.84607699756 + 5490.5447790075 * t);
-        X0 += 0.00000000411 * Math.cos(3.44829890606 + 2480.0586804635 * t);
-        X0 += 0.00000000433 * Math.cos(4.06813058765 + 3376.41897865191 * t);
-        X0 += 0.00000000433 * Math.cos(5.19722898458 + 3305.2935097147 * t);
-        X0 += 0.00000000448 * Math.cos(0.47019823361 + 8955.09798542589 * t);
-        X0 += 0.00000000416 * Math.cos(5.80949609188 + 23539.46356884929 * t);
-        X0 += 0.00000000423 * Math.cos(0.94668022805 + 10037.33356876791 * t);
-        X0 += 0.00000000481 * Math.cos(1.03096497224 + 6685.4008241462 * t);
-        X0 += 0.00000000538 * Math.cos(4.80873309420 + 6637.7497585781 * t);
-        X0 += 0.00000000403 * Math.cos(0.45532779122 + 394.38206757569 * t);
-        X0 += 0.00000000414 * Math.cos(5.88932386622 + 3016.86319255889 * t);
-        X0 += 0.00000000402 * Math.cos(1.79274198343 + 6151.7949594407 * t);
-        X0 += 0.00000000403 * Math.cos(2.79426969488 + 18849.4713674577 * t);
-        X0 += 0.00000000402 * Math.cos(6.04515565912 + 6151.76045213631 * t);
-        X0 += 0.00000000430 * Math.cos(1.85443040441 + 2655.8121899573 * t);
-        X0 += 0.00000000435 * Math.cos(5.32997749844 + 9375.0702642681 * t);
-        X0 += 0.00000000509 * Math.cos(0.81630529644 + 3496.20933331471 * t);
-        X0 += 0.00000000548 * Math.cos(5.48508184425 + 10184.5477337151 * t);
-        X0 += 0.00000000397 * Math.cos(5.67378728474 + 3723.7355227543 * t);
-        X0 += 0.00000000406 * Math.cos(3.29797001828 + 5750.1055840313 * t);
-        X0 += 0.00000000477 * Math.cos(3.72133708668 + 6614.9812619687 * t);
-        X0 += 0.00000000555 * Math.cos(2.64209868471 + 3718.2298520991 * t);
-        X0 += 0.00000000425 * Math.cos(5.57143459419 + 7218.2731829785 * t);
-        X0 += 0.00000000408 * Math.cos(2.99345508442 + 2149.4447173407 * t);
-        X0 += 0.00000000402 * Math.cos(4.31245835258 + 1685.2959399851 * t);
-        X0 += 0.00000000411 * Math.cos(4.42878307560 + 21265.7669440037 * t);
-        X0 += 0.00000000486 * Math.cos(4.84700116898 + 10050.5302850507 * t);
-        X0 += 0.00000000394 * Math.cos(1.43738424753 + 5888.6937824157 * t);
-        X0 += 0.00000000487 * Math.cos(2.30357691290 + 1655.3164867147 * t);
-        X0 += 0.00000000421 * Math.cos(3.53490544380 + 13518.1139237169 * t);
-        X0 += 0.00000000395 * Math.cos(4.02660480719 + 7366.02509014209 * t);
-        X0 += 0.00000000392 * Math.cos(0.97128057325 + 17655.0243572331 * t);
-        X0 += 0.00000000443 * Math.cos(0.74922233388 + 2075.28876555691 * t);
-        X0 += 0.00000000404 * Math.cos(5.22642617943 + 6644.86330557891 * t);
-        X0 += 0.00000000381 * Math.cos(4.92982666503 + 15805.90302195849 * t);
-        X0 += 0.00000000414 * Math.cos(2.26879885935 + 7747.96414807311 * t);
-        X0 += 0.00000000395 * Math.cos(1.49962602130 + 18606.25512851669 * t);
-        X0 += 0.00000000377 * Math.cos(6.04852731229 + 8564.5501639855 * t);
-        X0 += 0.00000000475 * Math.cos(0.05735729625 + 7380.7398191107 * t);
-        X0 += 0.00000000378 * Math.cos(2.64754791943 + 9801.6684551441 * t);
-        X0 += 0.00000000430 * Math.cos(5.91707320028 + 905.2128791813 * t);
-        X0 += 0.00000000384 * Math.cos(1.10487298901 + 3205.30352918089 * t);
-        X0 += 0.00000000444 * Math.cos(1.82982329075 + 2277.054525764 * t);
-        X0 += 0.00000000397 * Math.cos(0.95323066030 + 515.70768857651 * t);
-        X0 += 0.00000000471 * Math.cos(5.87580736949 + 7270.5334978913 * t);
-        X0 += 0.00000000367 * Math.cos(1.76058008964 + 912.32642618209 * t);
-        X0 += 0.00000000430 * Math.cos(1.89342601713 + 5881.6475457177 * t);
-        X0 += 0.00000000469 * Math.cos(1.15366899488 + 7270.04586292429 * t);
-        X0 += 0.00000000433 * Math.cos(5.04314920496 + 2284.9188322902 * t);
-        X0 += 0.00000000438 * Math.cos(5.12080144325 + 9797.73630188101 * t);
-        X0 += 0.00000000506 * Math.cos(2.90113109352 + 1765.5228079341 * t);
-        X0 += 0.00000000360 * Math.cos(3.50809061650 + 20736.0759789091 * t);
-        X0 += 0.00000000395 * Math.cos(5.60289307177 + 7697.1316887673 * t);
-        X0 += 0.00000000364 * Math.cos(5.97461535482 + 3341.3489302845 * t);
-        X0 += 0.00000000379 * Math.cos(4.68258479838 + 5641.9544251257 * t);
-        X0 += 0.00000000476 * Math.cos(4.55315477415 + 1329.75590774351 * t);
-        X0 += 0.00000000473 * Math.cos(5.45656145574 + 21795.4579090983 * t);
-        X0 += 0.00000000351 * Math.cos(5.70650606381 + 6852.1415415023 * t);
-        X0 += 0.00000000351 * Math.cos(1.54032212267 + 2547.5937207489 * t);
-        X0 += 0.00000000452 * Math.cos(2.07881654365 + 6107.1238725483 * t);
-        X0 += 0.00000000344 * Math.cos(0.65486948739 + 16894.7542170941 * t);
-        X0 += 0.00000000364 * Math.cos(2.28651674734 + 6682.9531435914 * t);
-        X0 += 0.00000000344 * Math.cos(3.35027689955 + 5483.4985423095 * t);
-        X0 += 0.00000000372 * Math.cos(4.65630251193 + 1.22413855171 * t);
-        X0 += 0.00000000452 * Math.cos(2.64378641805 + 4307.8271216189 * t);
-        X0 += 0.00000000349 * Math.cos(3.97626348636 + 5636.3138346955 * t);
-        X0 += 0.00000000362 * Math.cos(3.43448634413 + 27681.89692667289 * t);
-        X0 += 0.00000000376 * Math.cos(4.65142839394 + 3339.38828814809 * t);
-        X0 += 0.00000000347 * Math.cos(0.90845197085 + 25685.62898532449 * t);
-        X0 += 0.00000000351 * Math.cos(4.37546900283 + 5452.50655756091 * t);
-        X0 += 0.00000000348 * Math.cos(3.23789957314 + 16865.7725871147 * t);
-        X0 += 0.00000000345 * Math.cos(2.38118381027 + 25287.47998191629 * t);
-        X0 += 0.00000000358 * Math.cos(1.48353909010 + 14584.05445563709 * t);
-        X0 += 0.00000000336 * Math.cos(2.98820379900 + 1882.83767561889 * t);
-        X0 += 0.00000000436 * Math.cos(1.98136341941 + 21946.86755521649 * t);
-        X0 += 0.00000000434 * Math.cos(1.89642061669 + 7214.68275432671 * t);
-        X0 += 0.00000000395 * Math.cos(5.73856202838 + 9993.6319101151 * t);
-        X0 += 0.00000000351 * Math.cos(1.69713753658 + 13213.1303271481 * t);
-        X0 += 0.00000000327 * Math.cos(5.61960069444 + 3354.0980165813 * t);
-        X0 += 0.00000000327 * Math.cos(3.64575887779 + 3327.61447178531 * t);
-        X0 += 0.00000000361 * Math.cos(5.11177050140 + 3.34661116829 * t);
-        X0 += 0.00000000328 * Math.cos(1.43829359971 + 2435.3995475185 * t);
-        X0 += 0.00000000447 * Math.cos(0.03231232062 + 13363.67384535091 * t);
-        X0 += 0.00000000389 * Math.cos(2.62527245368 + 30065.7556577817 * t);
-        X0 += 0.00000000326 * Math.cos(0.96031549475 + 3264.59017290771 * t);
-        X0 += 0.00000000395 * Math.cos(3.32438313829 + 3337.4004361371 * t);
-        X0 += 0.00000000339 * Math.cos(6.08213730855 + 14557.1405345073 * t);
-        X0 += 0.00000000334 * Math.cos(6.05623235898 + 147.0555040071 * t);
-        X0 += 0.00000000335 * Math.cos(0.79225648740 + 20617.77554105009 * t);
-        X0 += 0.00000000347 * Math.cos(5.62869239068 + 5223.93773728571 * t);
-        X0 += 0.00000000344 * Math.cos(1.14994835781 + 4025.9002984093 * t);
-        X0 += 0.00000000314 * Math.cos(2.86750999648 + 4142.7325316625 * t);
-        X0 += 0.00000000347 * Math.cos(4.19150197941 + 3265.587010649 * t);
-        X0 += 0.00000000408 * Math.cos(1.39255335689 + 11883.8269502183 * t);
-        X0 += 0.00000000317 * Math.cos(0.53690715547 + 3347.4821562171 * t);
-        X0 += 0.00000000335 * Math.cos(3.39833290956 + 544.1618765797 * t);
-        X0 += 0.00000000345 * Math.cos(5.10704504215 + 5244.2930566845 * t);
-        X0 += 0.00000000318 * Math.cos(5.77952261520 + 12302.8239591265 * t);
-        X0 += 0.00000000384 * Math.cos(5.87247896307 + 7733.7370540715 * t);
-        X0 += 0.00000000402 * Math.cos(5.10624732337 + 8982.5668518255 * t);
-        X0 += 0.00000000409 * Math.cos(3.94804561206 + 23141.3145654411 * t);
-        X0 += 0.00000000335 * Math.cos(4.32453175361 + 3061.06973983091 * t);
-        X0 += 0.00000000415 * Math.cos(5.56961683825 + 12509.4971425307 * t);
-        X0 += 0.00000000355 * Math.cos(1.45991925898 + 7322.34627826531 * t);
-        X0 += 0.00000000316 * Math.cos(0.87910526351 + 3440.4259000529 * t);
-        X0 += 0.00000000316 * Math.cos(2.10306900154 + 3241.28658831371 * t);
-        X0 += 0.00000000354 * Math.cos(2.21314787069 + 4606.4237228097 * t);
-        X0 += 0.00000000347 * Math.cos(5.76966973208 + 14127.99895376209 * t);
-        X0 += 0.00000000310 * Math.cos(0.93053726029 + 6453.9925380941 * t);
-        X0 += 0.00000000300 * Math.cos(3.78819115153 + 1987.4657161755 * t);
-        X0 += 0.00000000304 * Math.cos(1.07677018782 + 15265.64270181689 * t);
-        X0 += 0.00000000299 * Math.cos(5.63009118135 + 10285.1650209557 * t);
-        X0 += 0.00000000379 * Math.cos(3.85337142681 + 1461.29786942991 * t);
-        X0 += 0.00000000294 * Math.cos(3.49253072198 + 20040.3952593333 * t);
-        X0 += 0.00000000295 * Math.cos(5.12372688658 + 2487.6598624313 * t);
-        X0 += 0.00000000313 * Math.cos(2.87465266242 + 6286.84278582391 * t);
-        X0 += 0.00000000307 * Math.cos(1.51056904066 + 9755.4740558611 * t);
-        X0 += 0.00000000306 * Math.cos(6.04685205074 + 8756.5136189565 * t);
-        X0 += 0.00000000313 * Math.cos(1.89942417078 + 4982.18945437991 * t);
-        X0 += 0.00000000392 * Math.cos(3.05316745117 + 19645.7693742741 * t);
-        X0 += 0.00000000361 * Math.cos(6.17342387386 + 684.8002367425 * t);
-        X0 += 0.00000000328 * Math.cos(5.65545524347 + 3284.0529820135 * t);
-        X0 += 0.00000000328 * Math.cos(3.60990432876 + 3397.6595063531 * t);
-        X0 += 0.00000000291 * Math.cos(2.47748718892 + 11986.91972443691 * t);
-        X0 += 0.00000000341 * Math.cos(5.74548283796 + 18053.1733606413 * t);
-        X0 += 0.00000000345 * Math.cos(5.01202054200 + 16063.4086646685 * t);
-        X0 += 0.00000000314 * Math.cos(4.21854332735 + 9983.9480619451 * t);
-        X0 += 0.00000000331 * Math.cos(0.26449397604 + 6680.99828956829 * t);
-        X0 += 0.00000000329 * Math.cos(3.71339298820 + 2277.95119564511 * t);
-        X0 += 0.00000000301 * Math.cos(4.17619017646 + 1251.0740137843 * t);
-        X0 += 0.00000000339 * Math.cos(1.15206040807 + 2825.39237309031 * t);
-        X0 += 0.00000000339 * Math.cos(1.83011385698 + 3856.3201152763 * t);
-        X0 += 0.00000000383 * Math.cos(4.85726262562 + 2921.9318452827 * t);
-        X0 += 0.00000000302 * Math.cos(0.20789359091 + 12825.8890121873 * t);
-        X0 += 0.00000000310 * Math.cos(5.32681384370 + 2060.5740365883 * t);
-        X0 += 0.00000000310 * Math.cos(3.86907443553 + 5622.1039943461 * t);
-        X0 += 0.00000000292 * Math.cos(2.39430170560 + 17256.8753538249 * t);
-        X0 += 0.00000000286 * Math.cos(2.53378899320 + 279.5426868689 * t);
-        X0 += 0.00000000330 * Math.cos(1.47284455054 + 1073.85284167431 * t);
-        X0 += 0.00000000382 * Math.cos(2.75070755631 + 3267.5591183243 * t);
-        X0 += 0.00000000382 * Math.cos(0.23146670874 + 3414.1533700423 * t);
-        X0 += 0.00000000304 * Math.cos(4.94294697674 + 3620.6427485357 * t);
-        X0 += 0.00000000326 * Math.cos(0.65821317943 + 533.8669358412 * t);
-        X0 += 0.00000000322 * Math.cos(1.32651672788 + 2388.6502029657 * t);
-        X0 += 0.00000000289 * Math.cos(2.79104178187 + 36.27168416091 * t);
-        X0 += 0.00000000287 * Math.cos(0.85216793603 + 5511.8804194745 * t);
-        X0 += 0.00000000283 * Math.cos(2.78331249725 + 12840.1161061889 * t);
-        X0 += 0.00000000358 * Math.cos(4.64860381703 + 568.5780565439 * t);
-        X0 += 0.00000000282 * Math.cos(2.30704296928 + 595.9345565255 * t);
-        X0 += 0.00000000380 * Math.cos(3.49134141596 + 2973.63191522091 * t);
-        X0 += 0.00000000283 * Math.cos(6.10276906215 + 9859.6144614507 * t);
-        X0 += 0.00000000269 * Math.cos(2.39532753439 + 15636.8104737925 * t);
-        X0 += 0.00000000280 * Math.cos(1.99086077526 + 16511.8576848709 * t);
-        X0 += 0.00000000296 * Math.cos(5.47787166920 + 1.24065522479 * t);
-        X0 += 0.00000000300 * Math.cos(4.16267400886 + 13525.1601604149 * t);
-        X0 += 0.00000000331 * Math.cos(4.51690765173 + 6680.9637822639 * t);
-        X0 += 0.00000000310 * Math.cos(1.83830280403 + 5622.06948704171 * t);
-        X0 += 0.00000000323 * Math.cos(5.09944111205 + 2266.7595850255 * t);
-        X0 += 0.00000000284 * Math.cos(4.75295349811 + 5085.3495389013 * t);
-        X0 += 0.00000000320 * Math.cos(5.98266609774 + 10720.8646108435 * t);
-        X0 += 0.00000000317 * Math.cos(3.36262525597 + 6048.1972966029 * t);
-        X0 += 0.00000000269 * Math.cos(4.46031273955 + 2744.6778701743 * t);
-        X0 += 0.00000000318 * Math.cos(3.75471974270 + 526.00262931501 * t);
-        X0 += 0.00000000257 * Math.cos(3.06293713227 + 24341.28449997309 * t);
-        X0 += 0.00000000266 * Math.cos(2.03059365371 + 206.9445547801 * t);
-        X0 += 0.00000000258 * Math.cos(3.36613687261 + 8749.4000719557 * t);
-        X0 += 0.00000000271 * Math.cos(3.84748092274 + 3345.42699390331 * t);
-        X0 += 0.00000000271 * Math.cos(5.41787864949 + 3336.2854944633 * t);
-        X0 += 0.00000000301 * Math.cos(3.14400326371 + 10706.63751684189 * t);
-        X0 += 0.00000000251 * Math.cos(5.53940659235 + 3343.9592864387 * t);
-        X0 += 0.00000000251 * Math.cos(3.72595297988 + 3337.75320192791 * t);
-        X0 += 0.00000000251 * Math.cos(4.94239589656 + 9758.9971742101 * t);
-        X0 += 0.00000000267 * Math.cos(2.53115640127 + 6831.0318680177 * t);
-        X0 += 0.00000000306 * Math.cos(2.93208929772 + 12012.8261146239 * t);
-        X0 += 0.00000000249 * Math.cos(1.56864578441 + 4246.3129408481 * t);
-        X0 += 0.00000000286 * Math.cos(0.19225481574 + 1898.5950354231 * t);
-        X0 += 0.00000000320 * Math.cos(3.66652720680 + 536.5606946119 * t);
-        X0 += 0.00000000290 * Math.cos(2.87280676776 + 20047.4414960313 * t);
-        X0 += 0.00000000268 * Math.cos(3.04782864984 + 16703.23864067971 * t);
-        X0 += 0.00000000250 * Math.cos(2.52435118750 + 9698.5756809255 * t);
-        X0 += 0.00000000248 * Math.cos(5.82252924753 + 4534.81561944089 * t);
-        X0 += 0.00000000246 * Math.cos(5.46974928195 + 15651.03756779411 * t);
-        X0 += 0.00000000309 * Math.cos(5.65012767043 + 1903.19299501769 * t);
-        X0 += 0.00000000247 * Math.cos(1.02711909982 + 10016.5581732755 * t);
-        X0 += 0.00000000262 * Math.cos(5.09398079638 + 4025.4126634423 * t);
-        X0 += 0.00000000312 * Math.cos(0.44934890599 + 6033.9702026013 * t);
-        X0 += 0.00000000245 * Math.cos(4.18381763277 + 2939.1841224261 * t);
-        X0 += 0.00000000317 * Math.cos(2.05559964887 + 95.7354097343 * t);
-        X0 += 0.00000000256 * Math.cos(3.14277515921 + 1727.90491115171 * t);
-        X0 += 0.00000000330 * Math.cos(1.40678844479 + 735.6326960483 * t);
-        X0 += 0.00000000276 * Math.cos(0.25330294458 + 6670.4229706192 * t);
-        X0 += 0.00000000321 * Math.cos(0.33298486449 + 11905.1625906853 * t);
-        X0 += 0.00000000252 * Math.cos(5.12405452534 + 5430.63847458231 * t);
-        X0 += 0.00000000252 * Math.cos(3.32857386946 + 21548.7185518083 * t);
-        X0 += 0.00000000237 * Math.cos(1.01475797851 + 194.7275669771 * t);
-        X0 += 0.00000000258 * Math.cos(4.25971949042 + 9488.8670141393 * t);
-        X0 += 0.00000000269 * Math.cos(3.40948701309 + 3867.0240909289 * t);
-        X0 += 0.00000000265 * Math.cos(4.47702156214 + 3053.89388306271 * t);
-        X0 += 0.00000000240 * Math.cos(3.30477326315 + 10027.6040218903 * t);
-        X0 += 0.00000000321 * Math.cos(4.39956903033 + 3759.7806430839 * t);
-        X0 += 0.00000000319 * Math.cos(5.16195488471 + 9815.8955491457 * t);
-        X0 += 0.00000000251 * Math.cos(1.69379264716 + 1280.0383901115 * t);
-        X0 += 0.00000000239 * Math.cos(1.35799257039 + 26481.92699214089 * t);
-        X0 += 0.00000000251 * Math.cos(0.30789864433 + 2790.80995968991 * t);
-        X0 += 0.00000000326 * Math.cos(5.77590839437 + 3708.0805731457 * t);
-        X0 += 0.00000000235 * Math.cos(5.32419238086 + 5106.6228696009 * t);
-        X0 += 0.00000000293 * Math.cos(4.82940686086 + 5628.7126527277 * t);
-        X0 += 0.00000000323 * Math.cos(0.15779112892 + 17086.2024832057 * t);
-        X0 += 0.00000000311 * Math.cos(1.69858307705 + 3290.0237848775 * t);
-        X0 += 0.00000000311 * Math.cos(1.28359118800 + 3391.68870348911 * t);
-        X0 += 0.00000000242 * Math.cos(5.03369279862 + 4996.4165483815 * t);
-        X0 += 0.00000000233 * Math.cos(3.70327934902 + 2679.13568243529 * t);
-        X0 += 0.00000000230 * Math.cos(3.19672105861 + 10654.8648368961 * t);
-        X0 += 0.00000000292 * Math.cos(0.94155136266 + 3050.3707647137 * t);
-        X0 += 0.00000000230 * Math.cos(5.31033620112 + 1744.24947723449 * t);
-        X0 += 0.00000000235 * Math.cos(3.67403387076 + 5945.5921573513 * t);
-        X0 += 0.00000000301 * Math.cos(3.92360235288 + 9495.9132508373 * t);
-        X0 += 0.00000000318 * Math.cos(2.84216979877 + 2907.1445063065 * t);
-        X0 += 0.00000000229 * Math.cos(3.22262757156 + 5.2791068239 * t);
-        X0 += 0.00000000248 * Math.cos(0.37197955444 + 1442.0173912767 * t);
-        X0 += 0.00000000226 * Math.cos(4.14053859051 + 1868.6155821527 * t);
-        X0 += 0.00000000234 * Math.cos(3.57298597343 + 2817.7911911225 * t);
-        X0 += 0.00000000230 * Math.cos(5.02142639697 + 4245.82530588109 * t);
-        X0 += 0.00000000312 * Math.cos(5.79393471603 + 4403.76129272151 * t);
-        X0 += 0.00000000222 * Math.cos(2.77556068119 + 1835.56843509031 * t);
-        X0 += 0.00000000277 * Math.cos(2.78377312092 + 7079.1300393243 * t);
-        X0 += 0.00000000289 * Math.cos(2.22892326730 + 6901.8813133219 * t);
-        X0 += 0.00000000244 * Math.cos(3.78614066645 + 5349.4137833423 * t);
-        X0 += 0.00000000268 * Math.cos(2.63933226300 + 16703.3732612853 * t);
-        X0 += 0.00000000250 * Math.cos(1.57631353673 + 187.68133027909 * t);
-        X0 += 0.00000000220 * Math.cos(4.31591174490 + 6511.88848775011 * t);
-        X0 += 0.00000000224 * Math.cos(1.47201980663 + 3138.6028490092 * t);
-        X0 += 0.00000000224 * Math.cos(1.51015445842 + 3543.1096393574 * t);
-        X0 += 0.00000000234 * Math.cos(1.63153005672 + 17499.6039577989 * t);
-        X0 += 0.00000000256 * Math.cos(5.60816219579 + 367.4681464459 * t);
-        X0 += 0.00000000272 * Math.cos(5.08797661427 + 2428.2860005177 * t);
-        X0 += 0.00000000218 * Math.cos(6.20908726956 + 2786.7992063739 * t);
-        X0 += 0.00000000218 * Math.cos(1.17556461134 + 6283.3369211271 * t);
-        X0 += 0.00000000270 * Math.cos(1.81634201038 + 11236.8161169035 * t);
-        X0 += 0.00000000218 * Math.cos(5.42797828703 + 6283.3024138227 * t);
-        X0 += 0.00000000220 * Math.cos(4.76793118335 + 3987.86707749811 * t);
-        X0 += 0.00000000238 * Math.cos(1.21800672651 + 2814.68839743771 * t);
-        X0 += 0.00000000222 * Math.cos(1.93943525542 + 1368.9040703285 * t);
-        X0 += 0.00000000215 * Math.cos(0.44293995073 + 13383.4689197751 * t);
-        X0 += 0.00000000224 * Math.cos(3.68637424288 + 77.9943614674 * t);
-        X0 += 0.00000000221 * Math.cos(4.81153466860 + 3937.0346181923 * t);
-        X0 += 0.00000000226 * Math.cos(4.13866805425 + 9279.0910370503 * t);
-        X0 += 0.00000000256 * Math.cos(5.10926173053 + 10596.4258959177 * t);
-        X0 += 0.00000000211 * Math.cos(0.32856158622 + 12200.2188198749 * t);
-        X0 += 0.00000000212 * Math.cos(1.71628960778 + 2392.66095628171 * t);
-        X0 += 0.00000000216 * Math.cos(4.73005287854 + 12928.98178640591 * t);
-        X0 += 0.00000000237 * Math.cos(4.78833782578 + 3627.8186053039 * t);
-        X0 += 0.00000000220 * Math.cos(2.11904228547 + 6530.4210010402 * t);
-        X0 += 0.00000000213 * Math.cos(4.70667890897 + 1484.68867221069 * t);
-        X0 += 0.00000000262 * Math.cos(0.21389223894 + 20.5315780089 * t);
-        X0 += 0.00000000254 * Math.cos(4.24958766273 + 19146.51544865829 * t);
-        X0 += 0.00000000222 * Math.cos(1.24391244474 + 8166.4011605773 * t);
-        X0 += 0.00000000263 * Math.cos(0.61066006216 + 4531.7801360589 * t);
-        X0 += 0.00000000249 * Math.cos(4.15411886603 + 3084.88586781131 * t);
-        X0 += 0.00000000239 * Math.cos(5.60863730462 + 5095.9188939483 * t);
-        X0 += 0.00000000239 * Math.cos(2.46704465103 + 5095.4312589813 * t);
-        X0 += 0.00000000270 * Math.cos(3.81676548381 + 24889.33097850809 * t);
-        X0 += 0.00000000252 * Math.cos(4.65459224520 + 3299.3054531985 * t);
-        X0 += 0.00000000252 * Math.cos(4.61076732703 + 3382.4070351681 * t);
-        X0 += 0.00000000207 * Math.cos(4.40367735236 + 5618.1545874308 * t);
-        X0 += 0.00000000239 * Math.cos(3.20969165945 + 3344.31205222951 * t);
-        X0 += 0.00000000262 * Math.cos(2.04023447861 + 3631.3417236529 * t);
-        X0 += 0.00000000206 * Math.cos(3.37185879421 + 7083.14079264031 * t);
-        X0 += 0.00000000249 * Math.cos(2.30381341333 + 2149.9323523077 * t);
-        X0 += 0.00000000210 * Math.cos(1.09820249005 + 6678.7171602721 * t);
-        X0 += 0.00000000255 * Math.cos(3.12446085063 + 1994.51195287351 * t);
-        X0 += 0.00000000204 * Math.cos(5.48441633924 + 4694.2467721911 * t);
-        X0 += 0.00000000274 * Math.cos(0.08158298999 + 12306.8347124425 * t);
-        X0 += 0.00000000262 * Math.cos(5.18218468663 + 532.9702659601 * t);
-        X0 += 0.00000000214 * Math.cos(2.76700465239 + 9623.4444592077 * t);
-        X0 += 0.00000000246 * Math.cos(4.44352898187 + 151.65346360169 * t);
-        X0 += 0.00000000223 * Math.cos(4.55939375869 + 3345.2182805731 * t);
-        X0 += 0.00000000223 * Math.cos(4.70596581354 + 3336.4942077935 * t);
-        X0 += 0.00000000255 * Math.cos(0.57678604074 + 2942.7244944273 * t);
-        X0 += 0.00000000224 * Math.cos(3.09503100625 + 6533.3899464568 * t);
-        X0 += 0.00000000245 * Math.cos(3.93191759940 + 2142.39848064269 * t);
-        X0 += 0.00000000201 * Math.cos(0.64350792344 + 9360.8481708019 * t);
-        X0 += 0.00000000282 * Math.cos(5.79937846262 + 12465.29059525869 * t);
-        X0 += 0.00000000199 * Math.cos(4.83221191762 + 3030.01544531491 * t);
-        X0 += 0.00000000243 * Math.cos(5.80725236762 + 9329.9234963561 * t);
-        X0 += 0.00000000233 * Math.cos(4.46399451272 + 5834.8982011649 * t);
-        X0 += 0.00000000205 * Math.cos(5.87364808478 + 7167.4407236727 * t);
-        X0 += 0.00000000199 * Math.cos(4.98231898069 + 2957.4720769931 * t);
-        X0 += 0.00000000220 * Math.cos(1.28938253421 + 5626.018893957 * t);
-        X0 += 0.00000000197 * Math.cos(0.25728561615 + 3244.8770169655 * t);
-        X0 += 0.00000000197 * Math.cos(2.72488864890 + 3436.8354714011 * t);
-        X0 += 0.00000000200 * Math.cos(3.33617729049 + 6567.0695639697 * t);
-        X0 += 0.00000000231 * Math.cos(4.21063730317 + 6654.0671147863 * t);
-        X0 += 0.00000000228 * Math.cos(4.31246262185 + 3319.59321372389 * t);
-        X0 += 0.00000000206 * Math.cos(3.05101379573 + 7483.3449583623 * t);
-        X0 += 0.00000000206 * Math.cos(6.19260644932 + 7483.8325933293 * t);
-        X0 += 0.00000000198 * Math.cos(5.49214722476 + 3094.6045218603 * t);
-        X0 += 0.00000000215 * Math.cos(2.54030230126 + 2540.5474840509 * t);
-        X0 += 0.00000000223 * Math.cos(4.58369899094 + 13341.9181287903 * t);
-        X0 += 0.00000000199 * Math.cos(3.86871213743 + 2409.00552236449 * t);
-        X0 += 0.00000000192 * Math.cos(2.31728673105 + 6382.3422766139 * t);
-        X0 += 0.00000000205 * Math.cos(2.67383805570 + 3890.9025286767 * t);
-        X0 += 0.00000000191 * Math.cos(2.18933385410 + 2928.4851473089 * t);
-        X0 += 0.00000000191 * Math.cos(0.79284041095 + 3753.22734105771 * t);
-        X0 += 0.00000000193 * Math.cos(2.64989993830 + 117.5636857037 * t);
-        X0 += 0.00000000194 * Math.cos(2.90629271112 + 18208.1061251085 * t);
-        X0 += 0.00000000197 * Math.cos(2.64056587295 + 20206.3850138145 * t);
-        X0 += 0.00000000194 * Math.cos(2.75330979101 + 28628.09240861609 * t);
-        X0 += 0.00000000212 * Math.cos(0.12612105707 + 4538.8263727569 * t);
-        X0 += 0.00000000192 * Math.cos(5.68657153593 + 3365.71500299931 * t);
-        X0 += 0.00000000192 * Math.cos(3.57878803630 + 3315.9974853673 * t);
-        X0 += 0.00000000218 * Math.cos(2.79753939558 + 2142.8861156097 * t);
-        X0 += 0.00000000226 * Math.cos(5.11126309189 + 3596.8266205553 * t);
-        X0 += 0.00000000253 * Math.cos(0.88845534596 + 5415.9011922567 * t);
-        X0 += 0.00000000187 * Math.cos(1.76835954015 + 15107.1195086979 * t);
-        X0 += 0.00000000207 * Math.cos(2.95174513706 + 419.2408263917 * t);
-        X0 += 0.00000000255 * Math.cos(4.82919971643 + 2942.6899871229 * t);
-        X0 += 0.00000000191 * Math.cos(2.45354674704 + 10544.6585156767 * t);
-        X0 += 0.00000000190 * Math.cos(4.20925049248 + 28229.94340520789 * t);
-        X0 += 0.00000000205 * Math.cos(2.24855213910 + 1059.60849402051 * t);
-        X0 += 0.00000000233 * Math.cos(5.87086760494 + 5821.1587421303 * t);
-        X0 += 0.00000000187 * Math.cos(3.39707563848 + 5401.18646328809 * t);
-        X0 += 0.00000000188 * Math.cos(1.22198431905 + 3318.08774757391 * t);
-        X0 += 0.00000000188 * Math.cos(1.76018994600 + 3363.62474079271 * t);
-        X0 += 0.00000000231 * Math.cos(4.09170497266 + 9094.2411290801 * t);
-        X0 += 0.00000000194 * Math.cos(2.01920817535 + 2736.0065034785 * t);
-        X0 += 0.00000000182 * Math.cos(2.90203674966 + 5960.3294396769 * t);
-        X0 += 0.00000000193 * Math.cos(4.00292264985 + 7417.3451844149 * t);
-        X0 += 0.00000000186 * Math.cos(0.33834024196 + 11354.1359851237 * t);
-        X0 += 0.00000000181 * Math.cos(3.45042796588 + 1754.8188322815 * t);
-        X0 += 0.00000000222 * Math.cos(1.29486520765 + 3070.6587738097 * t);
-        X0 += 0.00000000181 * Math.cos(0.71220143855 + 4356.03162710049 * t);
-        X0 += 0.00000000177 * Math.cos(4.43301273664 + 3651.6970430517 * t);
-        X0 += 0.00000000189 * Math.cos(1.80837972860 + 6673.8674889153 * t);
-        X0 += 0.00000000179 * Math.cos(5.05077866044 + 15121.3466026995 * t);
-        X0 += 0.00000000232 * Math.cos(4.23011116665 + 3517.54997431711 * t);
-        X0 += 0.00000000232 * Math.cos(5.03524840558 + 3164.1625140495 * t);
-        X0 += 0.00000000217 * Math.cos(5.77707162486 + 220.16882495529 * t);
-        X0 += 0.00000000176 * Math.cos(4.70413738332 + 1903.6806299847 * t);
-        X0 += 0.00000000180 * Math.cos(2.39448209299 + 3348.95011225231 * t);
-        X0 += 0.00000000180 * Math.cos(0.58769217206 + 3332.7623761143 * t);
-        X0 += 0.00000000179 * Math.cos(3.77310628062 + 3587.10796650631 * t);
-        X0 += 0.00000000205 * Math.cos(4.27932377060 + 1059.6430013249 * t);
-        X0 += 0.00000000187 * Math.cos(2.61826471479 + 2619.71701297711 * t);
-        X0 += 0.00000000176 * Math.cos(5.47433094670 + 13465.7862985013 * t);
-        X0 += 0.00000000242 * Math.cos(0.93268242658 + 5408.3000102889 * t);
-        X0 += 0.00000000178 * Math.cos(2.51501672448 + 2973.14428025389 * t);
-        X0 += 0.00000000226 * Math.cos(0.65351089705 + 11925.03027511709 * t);
-        X0 += 0.00000000174 * Math.cos(6.12894045783 + 10096.8626961502 * t);
-        X0 += 0.00000000188 * Math.cos(5.50048096325 + 2575.0631797369 * t);
-        X0 += 0.00000000175 * Math.cos(0.98347992481 + 12299.7884757445 * t);
-        X0 += 0.00000000232 * Math.cos(4.71901702635 + 5351.9565806231 * t);
-        X0 += 0.00000000174 * Math.cos(6.06374124229 + 5243.80542171749 * t);
-        X0 += 0.00000000177 * Math.cos(4.28915238170 + 6872.42930202769 * t);
-        X0 += 0.00000000177 * Math.cos(0.60438030609 + 2573.0074248347 * t);
-        X0 += 0.00000000210 * Math.cos(2.56022036127 + 6684.2201814941 * t);
-        X0 += 0.00000000175 * Math.cos(5.70361271383 + 6708.8702269799 * t);
-        X0 += 0.00000000174 * Math.cos(0.12430770186 + 3156.0063362131 * t);
-        X0 += 0.00000000182 * Math.cos(4.32115413536 + 2011.3441539233 * t);
-        X0 += 0.00000000169 * Math.cos(5.11813247600 + 6684.97453557991 * t);
-        X0 += 0.00000000173 * Math.cos(2.47259223958 + 4885.72259219509 * t);
-        X0 += 0.00000000239 * Math.cos(3.79200199968 + 31022.50935337269 * t);
-        X0 += 0.00000000169 * Math.cos(0.86571880031 + 6685.0090428843 * t);
-        X0 += 0.00000000191 * Math.cos(5.18490906634 + 11567.4350805617 * t);
-        X0 += 0.00000000207 * Math.cos(4.46904668742 + 10001.72577818411 * t);
-        X0 += 0.00000000181 * Math.cos(0.23355817402 + 8584.41784841729 * t);
-        X0 += 0.00000000189 * Math.cos(1.06059790633 + 2783.76372299191 * t);
-        X0 += 0.00000000233 * Math.cos(3.39745394763 + 23958.8756027169 * t);
-        X0 += 0.00000000219 * Math.cos(5.87651375075 + 3070.7260841125 * t);
-        X0 += 0.00000000177 * Math.cos(4.57327453091 + 2978.7351074525 * t);
-        X0 += 0.00000000179 * Math.cos(3.71447292171 + 17232.9969160771 * t);
-        X0 += 0.00000000168 * Math.cos(5.95159678891 + 1111.3984276185 * t);
-        X0 += 0.00000000172 * Math.cos(0.33588249395 + 4061.99547538951 * t);
-        X0 += 0.00000000184 * Math.cos(1.40136911195 + 12943.2088804075 * t);
-        X0 += 0.00000000179 * Math.cos(1.59854865789 + 8852.4928461743 * t);
-        X0 += 0.00000000162 * Math.cos(1.97243550807 + 16696.1924039817 * t);
-        X0 += 0.00000000163 * Math.cos(5.34659176540 + 19676.20641375289 * t);
-        X0 += 0.00000000204 * Math.cos(4.15805864546 + 4253.4264878489 * t);
-        X0 += 0.00000000200 * Math.cos(1.68724699588 + 3611.0537145569 * t);
-        X0 += 0.00000000188 * Math.cos(2.44881959486 + 2385.61471958371 * t);
-        X0 += 0.00000000166 * Math.cos(5.16059611000 + 24491.18197509989 * t);
-        X0 += 0.00000000168 * Math.cos(2.00217090683 + 6166.0047997901 * t);
-        X0 += 0.00000000201 * Math.cos(5.56233470044 + 3738.98799393931 * t);
-        X0 += 0.00000000184 * Math.cos(6.06162121787 + 1155.6049748905 * t);
-        X0 += 0.00000000163 * Math.cos(1.26202958512 + 3335.6570530175 * t);
-        X0 += 0.00000000163 * Math.cos(1.72014467993 + 3346.0554353491 * t);
-        X0 += 0.00000000158 * Math.cos(3.39261805220 + 5490.05714404049 * t);
-        X0 += 0.00000000162 * Math.cos(3.55591572493 + 272.42913986809 * t);
-        X0 += 0.00000000173 * Math.cos(3.27771655682 + 4.1759707466 * t);
-        X0 += 0.00000000166 * Math.cos(6.26161653226 + 21393.7857873411 * t);
-        X0 += 0.00000000175 * Math.cos(1.20396202464 + 2757.8573328049 * t);
-        X0 += 0.00000000154 * Math.cos(1.26391171796 + 4289.0515320849 * t);
-        X0 += 0.00000000214 * Math.cos(3.94790035362 + 1386.13909381971 * t);
-        X0 += 0.00000000171 * Math.cos(1.64736764034 + 10011.4444322331 * t);
-        X0 += 0.00000000156 * Math.cos(5.65947538133 + 10081.4549594965 * t);
-        X0 += 0.00000000163 * Math.cos(2.04192539510 + 13286.4274530071 * t);
-        X0 += 0.00000000155 * Math.cos(5.55556139897 + 8771.2509012821 * t);
-        X0 += 0.00000000151 * Math.cos(6.02869301104 + 15011.1402814801 * t);
-        X0 += 0.00000000155 * Math.cos(5.93813726450 + 1879.31455726989 * t);
-        X0 += 0.00000000155 * Math.cos(2.60087355671 + 2089.53841291549 * t);
-        X0 += 0.00000000194 * Math.cos(0.09021705575 + 3361.1440047087 * t);
-        X0 += 0.00000000169 * Math.cos(6.19326528274 + 7064.34794945411 * t);
-        X0 += 0.00000000166 * Math.cos(0.77365213441 + 6719.6017065209 * t);
-        X0 += 0.00000000158 * Math.cos(1.56915594044 + 8439.6341143329 * t);
-        X0 += 0.00000000151 * Math.cos(5.90185701300 + 10228.2666460201 * t);
-        X0 += 0.00000000151 * Math.cos(2.82948943010 + 3525.7061521535 * t);
-        X0 += 0.00000000149 * Math.cos(1.89551632354 + 3664.3616608407 * t);
-        X0 += 0.00000000196 * Math.cos(3.39238995578 + 3610.98640425411 * t);
-        X0 += 0.00000000166 * Math.cos(2.03190415107 + 5466.7336515625 * t);
-        X0 += 0.00000000167 * Math.cos(2.89181496866 + 10288.6881393047 * t);
-        X0 += 0.00000000156 * Math.cos(0.79100595475 + 17394.97591724229 * t);
-        X0 += 0.00000000147 * Math.cos(1.14044441078 + 14577.4285436033 * t);
-        X0 += 0.00000000147 * Math.cos(2.18386267585 + 1898.57778177091 * t);
-        X0 += 0.00000000154 * Math.cos(1.77068494981 + 11457.2287593423 * t);
-        X0 += 0.00000000172 * Math.cos(5.39541277180 + 19617.3201868063 * t);
-        X0 += 0.00000000166 * Math.cos(2.73543927114 + 6908.9448036721 * t);
-        X0 += 0.00000000160 * Math.cos(0.44981752738 + 1346.10047382629 * t);
-        X0 += 0.00000000180 * Math.cos(5.45674212617 + 5220.4146189367 * t);
-        X0 += 0.00000000159 * Math.cos(0.77814105937 + 1505.04399160949 * t);
-        X0 += 0.00000000171 * Math.cos(5.60623731826 + 4399.7505394055 * t);
-        X0 += 0.00000000178 * Math.cos(2.31756312240 + 2807.1545257727 * t);
-        X0 += 0.00000000201 * Math.cos(1.30992102475 + 3739.0225012437 * t);
-        X0 += 0.00000000148 * Math.cos(0.98641859240 + 9154.1474335053 * t);
-        X0 += 0.00000000146 * Math.cos(0.62125880196 + 13369.8070712835 * t);
-        X0 += 0.00000000170 * Math.cos(5.74209007670 + 6677.9282988819 * t);
-        X0 += 0.00000000147 * Math.cos(1.87608878363 + 9918.9883233643 * t);
-        X0 += 0.00000000147 * Math.cos(5.20291449518 + 14481.4493163855 * t);
-        X0 += 0.00000000147 * Math.cos(1.47480421685 + 6850.56121904909 * t);
-        X0 += 0.00000000159 * Math.cos(0.03020279035 + 3334.99904188371 * t);
-        X0 += 0.00000000159 * Math.cos(2.95197147470 + 3346.71344648291 * t);
-        X0 += 0.00000000150 * Math.cos(2.06659306486 + 15110.22230238269 * t);
-        X0 += 0.00000000143 * Math.cos(1.10166083747 + 13227.6284442473 * t);
-        X0 += 0.00000000189 * Math.cos(6.14146200362 + 10042.4364169817 * t);
-        X0 += 0.00000000153 * Math.cos(4.69206111649 + 3702.9773809141 * t);
-        X0 += 0.00000000168 * Math.cos(2.68821315216 + 10032.71776293271 * t);
-        X0 += 0.00000000155 * Math.cos(3.47829704410 + 369.9436334239 * t);
-        X0 += 0.00000000151 * Math.cos(2.48862413425 + 1859.44687283811 * t);
-        X0 += 0.00000000163 * Math.cos(1.42057059488 + 2965.09051261311 * t);
-        X0 += 0.00000000179 * Math.cos(2.60241794828 + 3966.52643649571 * t);
-        X0 += 0.00000000179 * Math.cos(0.37975631677 + 2715.1860518709 * t);
-        X0 += 0.00000000195 * Math.cos(3.84830983656 + 16858.7263504167 * t);
-        X0 += 0.00000000140 * Math.cos(4.86382612147 + 18461.9590293993 * t);
-        X0 += 0.00000000183 * Math.cos(0.37676347949 + 6791.6749921025 * t);
-        X0 += 0.00000000150 * Math.cos(4.97392660722 + 1879.8021922369 * t);
-        X0 += 0.00000000150 * Math.cos(5.20281046756 + 2922.35192137631 * t);
-        X0 += 0.00000000182 * Math.cos(2.41452857008 + 8005.92237645609 * t);
-        X0 += 0.00000000146 * Math.cos(1.91269041932 + 2715.2311079861 * t);
-        X0 += 0.00000000165 * Math.cos(1.13937556996 + 7346.22471601311 * t);
-        X0 += 0.00000000141 * Math.cos(0.78224513843 + 3017.35082752591 * t);
-        X0 += 0.00000000191 * Math.cos(2.19520817628 + 3202.2680457989 * t);
-        X0 += 0.00000000191 * Math.cos(0.78696608877 + 3479.4444425677 * t);
-        X0 += 0.00000000139 * Math.cos(0.20210254749 + 4846.1440532763 * t);
-        X0 += 0.00000000138 * Math.cos(5.80974078574 + 1537.9966184945 * t);
-        X0 += 0.00000000193 * Math.cos(2.76342547478 + 3650.1345668391 * t);
-        X0 += 0.00000000160 * Math.cos(3.79608374479 + 3394.16419046711 * t);
-        X0 += 0.00000000160 * Math.cos(5.46927582744 + 3287.54829789951 * t);
-        X0 += 0.00000000193 * Math.cos(0.22143365956 + 3031.5779215275 * t);
-        X0 += 0.00000000169 * Math.cos(6.13731522421 + 4687.2005354931 * t);
-        X0 += 0.00000000155 * Math.cos(1.91928194110 + 3897.9487653747 * t);
-        X0 += 0.00000000162 * Math.cos(1.51359934194 + 5607.8596466923 * t);
-        X0 += 0.00000000136 * Math.cos(5.24657523026 + 3336.7781805645 * t);
-        X0 += 0.00000000144 * Math.cos(0.96151831208 + 3945.70598488811 * t);
-        X0 += 0.00000000155 * Math.cos(1.92058338472 + 7799.73682801889 * t);
-        X0 += 0.00000000170 * Math.cos(1.48967640102 + 6677.9628061863 * t);
-        X0 += 0.00000000155 * Math.cos(5.68296928057 + 25136.0703357981 * t);
-        X0 += 0.00000000141 * Math.cos(3.83758141126 + 6279.7965491259 * t);
-        X0 += 0.00000000174 * Math.cos(4.01650767670 + 7586.43773258089 * t);
-        X0 += 0.00000000138 * Math.cos(4.77290767341 + 6343.2259719001 * t);
-        X0 += 0.00000000176 * Math.cos(0.53515924546 + 605.0935581883 * t);
-        X0 += 0.00000000167 * Math.cos(5.28260459939 + 8337.0289750813 * t);
-        X0 += 0.00000000185 * Math.cos(5.57942546824 + 27831.79440179969 * t);
-        X0 += 0.00000000151 * Math.cos(3.22384573444 + 2281.05398932989 * t);
-        X0 += 0.00000000151 * Math.cos(6.20601999951 + 8962.7664776965 * t);
-        X0 += 0.00000000136 * Math.cos(2.37641738096 + 12729.9097849695 * t);
-        X0 += 0.00000000159 * Math.cos(4.80632202174 + 8958.7670141306 * t);
-        X0 += 0.00000000151 * Math.cos(0.33133107918 + 8962.63185709091 * t);
-        X0 += 0.00000000151 * Math.cos(3.63234212128 + 2280.9193687243 * t);
-        X0 += 0.00000000137 * Math.cos(3.04837973833 + 6703.3195002095 * t);
-        X0 += 0.00000000159 * Math.cos(1.73569021890 + 8966.6313206568 * t);
-        X0 += 0.00000000132 * Math.cos(6.26868643109 + 12171.7696324071 * t);
-        X0 += 0.00000000136 * Math.cos(5.59329741401 + 8696.0921256719 * t);
-        X0 += 0.00000000143 * Math.cos(3.76386314585 + 4106.6493086297 * t);
-        X0 += 0.00000000140 * Math.cos(5.97498967370 + 27.15773861329 * t);
-        X0 += 0.00000000179 * Math.cos(3.80633362749 + 5724.6918799455 * t);
-        X0 += 0.00000000133 * Math.cos(4.74386275251 + 21150.56954840009 * t);
-        X0 += 0.00000000131 * Math.cos(6.16697098787 + 948.9317914863 * t);
-        X0 += 0.00000000132 * Math.cos(0.76534708942 + 1861.98967011891 * t);
-        X0 += 0.00000000133 * Math.cos(4.29217117055 + 2472.43494513869 * t);
-        X0 += 0.00000000138 * Math.cos(0.40513336194 + 34554.57004618409 * t);
-        X0 += 0.00000000139 * Math.cos(5.19191345372 + 3.8342461353 * t);
-        X0 += 0.00000000130 * Math.cos(4.35517837249 + 529.91752892591 * t);
-        X0 += 0.00000000157 * Math.cos(5.37876152794 + 10787.3865270623 * t);
-        X0 += 0.00000000133 * Math.cos(6.07532283158 + 6624.5702959475 * t);
-        X0 += 0.00000000148 * Math.cos(3.97691997672 + 7051.1684868235 * t);
-        X0 += 0.00000000130 * Math.cos(4.65904545064 + 7594.0389145487 * t);
-        X0 += 0.00000000132 * Math.cos(4.88502683468 + 9594.99527173989 * t);
-        X0 += 0.00000000138 * Math.cos(0.90971001825 + 12406.4043683121 * t);
-        X0 += 0.00000000130 * Math.cos(0.10276469681 + 529.95203623031 * t);
-        X0 += 0.00000000143 * Math.cos(4.86125646505 + 10015.0348608849 * t);
-        X0 += 0.00000000149 * Math.cos(1.84050714895 + 10.88048283331 * t);
-        X0 += 0.00000000178 * Math.cos(3.08917546737 + 2675.61256408629 * t);
-        X0 += 0.00000000133 * Math.cos(3.17506743739 + 29424.39041543249 * t);
-        X0 += 0.00000000158 * Math.cos(4.74264934391 + 6092.4038438749 * t);
-        X0 += 0.00000000131 * Math.cos(3.61329007760 + 158.6997002997 * t);
-        X0 += 0.00000000134 * Math.cos(6.18217952972 + 2954.4365936111 * t);
-        X0 += 0.00000000142 * Math.cos(5.93252825590 + 3041.2422149471 * t);
-        X0 += 0.00000000164 * Math.cos(5.73696427086 + 26083.7779887327 * t);
-        X0 += 0.00000000145 * Math.cos(4.90613886816 + 8373.6343403855 * t);
-        X0 += 0.00000000172 * Math.cos(6.07544204816 + 1086.53966880249 * t);
-        X0 += 0.00000000128 * Math.cos(0.30967307338 + 155.10927164789 * t);
-        X0 += 0.00000000137 * Math.cos(5.86605729001 + 6137.5506117869 * t);
-        X0 += 0.00000000167 * Math.cos(5.43341203989 + 107.9073414221 * t);
-        X0 += 0.00000000133 * Math.cos(0.23815011517 + 12167.75887909109 * t);
-        X0 += 0.00000000137 * Math.cos(5.46181201519 + 14581.0189722551 * t);
-        X0 += 0.00000000137 * Math.cos(5.81885310871 + 20995.1491489659 * t);
-        X0 += 0.00000000126 * Math.cos(4.56442495497 + 37.88921815429 * t);
-        X0 += 0.00000000130 * Math.cos(2.37779375339 + 4108.7050635319 * t);
-        X0 += 0.00000000137 * Math.cos(4.00489189426 + 18052.68572567429 * t);
-        X0 += 0.00000000131 * Math.cos(3.67362007014 + 692.4014187103 * t);
-        X0 += 0.00000000132 * Math.cos(4.04092682792 + 27490.44866056129 * t);
-        X0 += 0.00000000144 * Math.cos(0.85129982457 + 1802.6158082053 * t);
-        X0 += 0.00000000146 * Math.cos(3.74761052478 + 3475.43368925169 * t);
-        X0 += 0.00000000126 * Math.cos(1.85382678462 + 18447.7319353977 * t);
-        X0 += 0.00000000141 * Math.cos(1.56404343366 + 3716.6219757535 * t);
-        X0 += 0.00000000124 * Math.cos(6.09263518701 + 31172.40682849949 * t);
-        X0 += 0.00000000124 * Math.cos(3.53492874819 + 6688.15233475721 * t);
-        X0 += 0.00000000121 * Math.cos(2.97155384439 + 3590.7607049255 * t);
-        X0 += 0.00000000121 * Math.cos(0.01062042066 + 3090.95178344111 * t);
-        X0 += 0.00000000122 * Math.cos(1.08207213909 + 2257.59587624631 * t);
-        X0 += 0.00000000123 * Math.cos(4.43212874956 + 6710.8981794191 * t);
-        X0 += 0.00000000129 * Math.cos(1.62910369718 + 3073.76156749449 * t);
-        X0 += 0.00000000131 * Math.cos(1.25301701217 + 5401.6740982551 * t);
-        X0 += 0.00000000166 * Math.cos(5.13636005426 + 6553.44982754571 * t);
-        X0 += 0.00000000134 * Math.cos(2.74325583907 + 4783.1174529435 * t);
-        X0 += 0.00000000122 * Math.cos(3.27465422739 + 1235.8318428395 * t);
-        X0 += 0.00000000128 * Math.cos(2.31642376876 + 3081.2954391595 * t);
-        X0 += 0.00000000128 * Math.cos(0.66575049629 + 3600.41704920711 * t);
-        X0 += 0.00000000121 * Math.cos(1.73585336392 + 2126.05391455991 * t);
-        X0 += 0.00000000124 * Math.cos(1.52639839263 + 5820.6711071633 * t);
-        X0 += 0.00000000122 * Math.cos(5.72445961080 + 3343.9590378681 * t);
-        X0 += 0.00000000140 * Math.cos(0.61176367150 + 10191.17364574889 * t);
-        X0 += 0.00000000127 * Math.cos(4.06254894391 + 3759.3605669903 * t);
-        X0 += 0.00000000143 * Math.cos(1.09962062110 + 2229.2139990813 * t);
-        X0 += 0.00000000120 * Math.cos(4.94879981221 + 1648.69057468091 * t);
-        X0 += 0.00000000152 * Math.cos(1.03111182783 + 3340.8217368789 * t);
-        X0 += 0.00000000152 * Math.cos(5.09265509081 + 3340.8907514877 * t);
-        X0 += 0.00000000137 * Math.cos(0.53719849293 + 4296.0977687829 * t);
-        X0 += 0.00000000140 * Math.cos(1.36695700894 + 2233.71743849851 * t);
-        X0 += 0.00000000118 * Math.cos(4.24520508177 + 7534.6650526351 * t);
-        X0 += 0.00000000137 * Math.cos(4.79183279956 + 14588.0652089531 * t);
-        X0 += 0.00000000123 * Math.cos(2.62418379139 + 9381.2034902007 * t);
-        X0 += 0.00000000116 * Math.cos(0.31023473755 + 10338.4729672395 * t);
-        X0 += 0.00000000137 * Math.cos(2.44663137240 + 8322.8018810797 * t);
-        X0 += 0.00000000126 * Math.cos(5.72232356435 + 4083.84630471591 * t);
-        X0 += 0.00000000133 * Math.cos(1.77129764655 + 3923.8551555617 * t);
-        X0 += 0.00000000124 * Math.cos(0.75314756792 + 9124.67816855889 * t);
-        X0 += 0.00000000115 * Math.cos(1.14717177200 + 6740.3548978297 * t);
-        X0 += 0.00000000126 * Math.cos(2.90864771221 + 3509.9487923493 * t);
-        X0 += 0.00000000121 * Math.cos(3.21008073536 + 3862.94602731009 * t);
-        X0 += 0.00000000118 * Math.cos(5.38340024977 + 1052.02456570489 * t);
-        X0 += 0.00000000134 * Math.cos(0.59423378961 + 6659.6178415567 * t);
-        X0 += 0.00000000133 * Math.cos(5.00091518953 + 28.2053699843 * t);
-        X0 += 0.00000000113 * Math.cos(0.40887729438 + 8436.5313206481 * t);
-        X0 += 0.00000000133 * Math.cos(2.32355321105 + 6147.8455525254 * t);
-        X0 += 0.00000000113 * Math.cos(4.81201285270 + 3116.5114484814 * t);
-        X0 += 0.00000000154 * Math.cos(5.94823211725 + 401.4283042737 * t);
-        X0 += 0.00000000119 * Math.cos(2.45406070822 + 1471.9968445471 * t);
-        X0 += 0.00000000116 * Math.cos(3.08299355103 + 3727.2758947555 * t);
-        X0 += 0.00000000120 * Math.cos(1.90192822830 + 3826.3406620059 * t);
-        X0 += 0.00000000111 * Math.cos(5.06172588434 + 6837.8693913855 * t);
-        X0 += 0.00000000147 * Math.cos(5.92093564346 + 8447.2352963007 * t);
-        X0 += 0.00000000120 * Math.cos(2.69810029066 + 2185.00745180929 * t);
-        X0 += 0.00000000114 * Math.cos(1.06948367588 + 3966.4813803805 * t);
-        X0 += 0.00000000126 * Math.cos(2.58719720597 + 7586.92536754791 * t);
-        X0 += 0.00000000129 * Math.cos(4.59879750309 + 3580.06172980831 * t);
-        X0 += 0.00000000129 * Math.cos(4.66656206913 + 3101.6507585583 * t);
-        X0 += 0.00000000123 * Math.cos(1.60493496065 + 5511.3927845075 * t);
-        X0 += 0.00000000133 * Math.cos(3.86628532692 + 6738.36704581871 * t);
-        X0 += 0.00000000124 * Math.cos(3.83529166494 + 7210.6720010107 * t);
-        X0 += 0.00000000107 * Math.cos(2.18213862825 + 6681.04834621889 * t);
-        X0 += 0.00000000139 * Math.cos(2.48335135146 + 14867.49369840869 * t);
-        X0 += 0.00000000112 * Math.cos(0.70994163466 + 27433.64539839149 * t);
-        X0 += 0.00000000112 * Math.cos(3.44331255043 + 10176.94655174729 * t);
-        X0 += 0.00000000126 * Math.cos(3.62916769632 + 6314.2443419207 * t);
-        X0 += 0.00000000146 * Math.cos(3.29717245103 + 3282.9775481795 * t);
-        X0 += 0.00000000146 * Math.cos(5.96818712120 + 3398.73494018711 * t);
-        X0 += 0.00000000112 * Math.cos(6.11830849841 + 4953.8075772149 * t);
-        X0 += 0.00000000115 * Math.cos(4.55565863446 + 4179.8255319337 * t);
-        X0 += 0.00000000115 * Math.cos(4.70981861448 + 2501.88695643291 * t);
-        X0 += 0.00000000130 * Math.cos(5.51502060547 + 6155.7098590516 * t);
-        X0 += 0.00000000134 * Math.cos(1.01177681780 + 4825.78873387751 * t);
-        X0 += 0.00000000138 * Math.cos(0.56483252235 + 5813.5350068055 * t);
-        X0 += 0.00000000115 * Math.cos(4.55081877486 + 8976.92626139531 * t);
-        X0 += 0.00000000147 * Math.cos(3.69174223041 + 5223.4501023187 * t);
-        X0 += 0.00000000105 * Math.cos(5.41291051440 + 17822.0617430853 * t);
-        X0 += 0.00000000118 * Math.cos(4.32124194486 + 5483.01090734249 * t);
-        X0 += 0.00000000103 * Math.cos(0.32432296727 + 1059.55843736991 * t);
-        X0 += 0.00000000104 * Math.cos(3.26220203929 + 549.80246700989 * t);
-        X0 += 0.00000000107 * Math.cos(3.74838397930 + 7076.0945559423 * t);
-        X0 += 0.00000000105 * Math.cos(5.49367983392 + 6961.2551752355 * t);
-        X0 += 0.00000000129 * Math.cos(5.50018660820 + 2961.48283030911 * t);
-        X0 += 0.00000000129 * Math.cos(3.76517296403 + 3720.2296580575 * t);
-        X0 += 0.00000000102 * Math.cos(4.98025675709 + 3230.16228799689 * t);
-        X0 += 0.00000000122 * Math.cos(2.69290805626 + 27676.8616373325 * t);
-        X0 += 0.00000000136 * Math.cos(4.29617974542 + 765.54924696289 * t);
-        X0 += 0.00000000116 * Math.cos(0.32033806866 + 10213.0417287275 * t);
-        X0 += 0.00000000115 * Math.cos(6.24129475028 + 2631.86644190671 * t);
-        X0 += 0.00000000102 * Math.cos(3.50373962589 + 639.6534688305 * t);
-        X0 += 0.00000000104 * Math.cos(6.25966851912 + 31450.0708602353 * t);
-        X0 += 0.00000000141 * Math.cos(5.37004252010 + 6456.63624021419 * t);
-        X0 += 0.00000000138 * Math.cos(4.70210522548 + 12295.71041212569 * t);
-        X0 += 0.00000000127 * Math.cos(5.95836944391 + 2655.74487965451 * t);
-        X0 += 0.00000000101 * Math.cos(4.76282120148 + 21791.9347907493 * t);
-        X0 += 0.00000000103 * Math.cos(5.89952296685 + 3134.1830607791 * t);
-        X0 += 0.00000000100 * Math.cos(0.05360387756 + 31213.95761948429 * t);
-        X0 += 0.00000000115 * Math.cos(2.72333533541 + 21000.67207327329 * t);
-        X0 += 0.00000000138 * Math.cos(4.45448589312 + 3201.1581046605 * t);
-        X0 += 0.00000000138 * Math.cos(4.81087367911 + 3480.5543837061 * t);
-        X0 += 0.00000000099 * Math.cos(2.15773607989 + 6953.6539932677 * t);
-        X0 += 0.00000000129 * Math.cos(0.22745708157 + 4878.60904519429 * t);
-        X0 += 0.00000000106 * Math.cos(2.17957220226 + 3023.9767395597 * t);
-        X0 += 0.00000000100 * Math.cos(1.77158830078 + 8741.79888998789 * t);
-        X0 += 0.00000000100 * Math.cos(1.77158830078 + 8742.28652495491 * t);
-        X0 += 0.00000000101 * Math.cos(3.30035420675 + 6534.6569843595 * t);
-        X0 += 0.00000000100 * Math.cos(2.36711969354 + 2652.2217613055 * t);
-        X0 += 0.00000000108 * Math.cos(5.70132621502 + 250.1482782257 * t);
-        X0 += 0.00000000113 * Math.cos(5.46854342462 + 13937.0383226175 * t);
-        X0 += 0.00000000100 * Math.cos(5.39233849058 + 3340.77168022831 * t);
-        X0 += 0.00000000100 * Math.cos(0.73142842806 + 3340.9408081383 * t);
-        X0 += 0.00000000098 * Math.cos(6.11395858344 + 6144.1765238207 * t);
-        X0 += 0.00000000104 * Math.cos(2.06636969565 + 11526.88127170889 * t);
-        X0 += 0.00000000099 * Math.cos(1.07049660080 + 5312.80841803811 * t);
-        X0 += 0.00000000113 * Math.cos(0.61738035609 + 10080.9673245295 * t);
-        X0 += 0.00000000107 * Math.cos(2.59063501509 + 6680.9137256133 * t);
-        X0 += 0.00000000095 * Math.cos(4.93046121541 + 8425.40702033129 * t);
-        X0 += 0.00000000095 * Math.cos(4.56982042451 + 3310.9742005731 * t);
-        X0 += 0.00000000095 * Math.cos(4.69553914772 + 3370.7382877935 * t);
-        X0 += 0.00000000098 * Math.cos(4.50493848722 + 18616.82448356369 * t);
-        X0 += 0.00000000095 * Math.cos(0.79771279792 + 4783.1347065957 * t);
-        X0 += 0.00000000096 * Math.cos(5.71058433425 + 1353.1467105243 * t);
-        X0 += 0.00000000100 * Math.cos(4.98384210374 + 3340.9063008339 * t);
-        X0 += 0.00000000100 * Math.cos(1.13992481490 + 3340.80618753271 * t);
-        X0 += 0.00000000112 * Math.cos(5.73113213169 + 5084.86190393429 * t);
-        X0 += 0.00000000098 * Math.cos(5.27414574207 + 7277.64704489211 * t);
-        X0 += 0.00000000097 * Math.cos(6.16604306709 + 12509.00950756369 * t);
-        X0 += 0.00000000100 * Math.cos(5.37057272396 + 1755.2278671956 * t);
-        X0 += 0.00000000098 * Math.cos(2.55063075141 + 1784.2880972279 * t);
-        X0 += 0.00000000129 * Math.cos(4.50770814605 + 4591.6864404841 * t);
-        X0 += 0.00000000098 * Math.cos(4.36330521693 + 4981.70181941289 * t);
-        X0 += 0.00000000100 * Math.cos(0.88244732253 + 6474.7679335865 * t);
-        X0 += 0.00000000125 * Math.cos(3.41428539212 + 30228.2222939139 * t);
-        X0 += 0.00000000102 * Math.cos(4.70479717845 + 2214.98690507971 * t);
-        X0 += 0.00000000092 * Math.cos(3.28323563949 + 1383.13116433011 * t);
-        X0 += 0.00000000101 * Math.cos(4.40159342227 + 3302.2355735785 * t);
-        X0 += 0.00000000100 * Math.cos(2.64848792786 + 13517.55897844709 * t);
-        X0 += 0.00000000096 * Math.cos(5.28550942561 + 16975.9789083341 * t);
-        X0 += 0.00000000096 * Math.cos(1.50961429884 + 34114.8702517911 * t);
-        X0 += 0.00000000118 * Math.cos(0.67935665521 + 3343.8251895999 * t);
-        X0 += 0.00000000118 * Math.cos(2.30281760984 + 3337.88729876671 * t);
-        X0 += 0.00000000105 * Math.cos(5.50998714425 + 42389.1787537905 * t);
-        X0 += 0.00000000118 * Math.cos(0.33297168104 + 2524.20291796811 * t);
-        X0 += 0.00000000114 * Math.cos(1.85606000482 + 947.95147041809 * t);
-        X0 += 0.00000000102 * Math.cos(5.06357443797 + 27946.9917974033 * t);
-        X0 += 0.00000000103 * Math.cos(4.21339332479 + 20235.36664379391 * t);
-        X0 += 0.00000000094 * Math.cos(1.77869076759 + 11507.0135872771 * t);
-        X0 += 0.00000000118 * Math.cos(3.61771545773 + 3284.47305810711 * t);
-        X0 += 0.00000000118 * Math.cos(5.64764411450 + 3397.2394302595 * t);
-        X0 += 0.00000000115 * Math.cos(1.48299242949 + 640.6337898987 * t);
-        X0 += 0.00000000104 * Math.cos(0.07874415195 + 3149.4252317239 * t);
-        X0 += 0.00000000104 * Math.cos(6.04497292118 + 3532.2872566427 * t);
-        X0 += 0.00000000091 * Math.cos(0.29342992971 + 24093.03297169169 * t);
-        X0 += 0.00000000093 * Math.cos(2.25704229812 + 987.9900904115 * t);
-        X0 += 0.00000000093 * Math.cos(3.19860248214 + 1957.4812623697 * t);
-        X0 += 0.00000000116 * Math.cos(5.06230565784 + 49225.8240066243 * t);
-        X0 += 0.00000000099 * Math.cos(1.45477069665 + 6489.53276980449 * t);
-        X0 += 0.00000000113 * Math.cos(3.26669234129 + 2597.86618365071 * t);
-        X0 += 0.00000000107 * Math.cos(1.04892077554 + 1744.66980189871 * t);
-        X0 += 0.00000000094 * Math.cos(5.35074037672 + 3334.72301825071 * t);
-        X0 += 0.00000000094 * Math.cos(3.91461919551 + 3346.9894701159 * t);
-        X0 += 0.00000000090 * Math.cos(0.96613791810 + 15747.0167950119 * t);
-        X0 += 0.00000000091 * Math.cos(2.71602822239 + 50818.4200202571 * t);
-        X0 += 0.00000000108 * Math.cos(2.01528048558 + 1971.70835637129 * t);
-        X0 += 0.00000000111 * Math.cos(4.02376942461 + 27417.3008323087 * t);
-        X0 += 0.00000000104 * Math.cos(5.13876361969 + 441.06910236111 * t);
-        X0 += 0.00000000089 * Math.cos(0.76619322850 + 3313.38737778371 * t);
-        X0 += 0.00000000089 * Math.cos(2.21598103655 + 3368.3251105829 * t);
-        X0 += 0.00000000103 * Math.cos(6.19901188761 + 1059.6930579755 * t);
-        X0 += 0.00000000112 * Math.cos(4.36311428624 + 1744.73711220151 * t);
-        X0 += 0.00000000092 * Math.cos(1.76217757007 + 32509.4527904245 * t);
-        X0 += 0.00000000100 * Math.cos(5.42847993770 + 10611.14592459111 * t);
-        X0 += 0.00000000112 * Math.cos(6.05049937833 + 10721.3522458105 * t);
-        X0 += 0.00000000100 * Math.cos(4.15719372404 + 309.0345051723 * t);
-        X0 += 0.00000000105 * Math.cos(4.65669488804 + 24606.3793707035 * t);
-        X0 += 0.00000000095 * Math.cos(2.41537501026 + 529.86747227531 * t);
-        X0 += 0.00000000120 * Math.cos(1.39317335094 + 3202.33874731261 * t);
-        X0 += 0.00000000120 * Math.cos(1.58900091411 + 3479.373741054 * t);
-        X0 += 0.00000000086 * Math.cos(2.34324816413 + 2918.82880302731 * t);
-        X0 += 0.00000000086 * Math.cos(0.63892610092 + 3762.8836853393 * t);
-        X0 += 0.00000000099 * Math.cos(3.62602219574 + 3458.6690470753 * t);
-        X0 += 0.00000000099 * Math.cos(5.63933737649 + 3223.0434412913 * t);
-        X0 += 0.00000000089 * Math.cos(3.31586686845 + 22531.3344226301 * t);
-        X0 += 0.00000000107 * Math.cos(5.26232652340 + 3311.87461420391 * t);
-        X0 += 0.00000000107 * Math.cos(4.00303304883 + 3369.83787416271 * t);
-        X0 += 0.00000000090 * Math.cos(4.95245301445 + 4670.36833444331 * t);
-        X0 += 0.00000000094 * Math.cos(3.52526410634 + 796.5245706477 * t);
-        X0 += 0.00000000085 * Math.cos(4.38880338786 + 809.2336519635 * t);
-        X0 += 0.00000000084 * Math.cos(4.57429862732 + 4778.03185838191 * t);
-        X0 += 0.00000000118 * Math.cos(0.22160767097 + 8219.22147189409 * t);
-        X0 += 0.00000000104 * Math.cos(4.33115782764 + 3149.3907244195 * t);
-        X0 += 0.00000000104 * Math.cos(1.79255924549 + 3532.3217639471 * t);
-        X0 += 0.00000000084 * Math.cos(2.65547973490 + 1125.62552162009 * t);
-        X0 += 0.00000000085 * Math.cos(1.24355302775 + 4555.6585738067 * t);
-        X0 += 0.00000000116 * Math.cos(0.77903465821 + 14694.7484118235 * t);
-        X0 += 0.00000000086 * Math.cos(1.37625658794 + 12410.9751180321 * t);
-        X0 += 0.00000000084 * Math.cos(2.20272544801 + 1106.89498820129 * t);
-        X0 += 0.00000000117 * Math.cos(1.12167690201 + 30774.2578250913 * t);
-        X0 += 0.00000000090 * Math.cos(4.84535420677 + 32366.8538387241 * t);
-        X0 += 0.00000000091 * Math.cos(0.58267443363 + 9161.7711688301 * t);
-        X0 += 0.00000000089 * Math.cos(1.52114958439 + 3348.53003615871 * t);
-        X0 += 0.00000000089 * Math.cos(1.46102468066 + 3333.1824522079 * t);
-        X0 += 0.00000000093 * Math.cos(3.90251764282 + 9225.29545579949 * t);
-        X0 += 0.00000000102 * Math.cos(4.73756255850 + 4466.72558328691 * t);
-        X0 += 0.00000000102 * Math.cos(1.59596990491 + 4466.2379483199 * t);
-        X0 += 0.00000000099 * Math.cos(2.08209672992 + 4879.0966801613 * t);
-        X0 += 0.00000000086 * Math.cos(2.48786705786 + 3613.0415665679 * t);
-        X0 += 0.00000000083 * Math.cos(2.77680182693 + 7899.30648388849 * t);
-        X0 += 0.00000000082 * Math.cos(6.02206548524 + 1265.32366114289 * t);
-        X0 += 0.00000000084 * Math.cos(2.49874468506 + 2942.7745510779 * t);
-        X0 += 0.00000000083 * Math.cos(2.13736601614 + 3077.28468584349 * t);
-        X0 += 0.00000000082 * Math.cos(2.21746232443 + 3351.42559923031 * t);
-        X0 += 0.00000000082 * Math.cos(0.76471194062 + 3330.2868891363 * t);
-        X0 += 0.00000000112 * Math.cos(3.24551167664 + 14900.9339602607 * t);
-        X0 += 0.00000000082 * Math.cos(2.15484008375 + 22318.03532719209 * t);
-        X0 += 0.00000000084 * Math.cos(4.77917502205 + 3597.8742519263 * t);
-        X0 += 0.00000000084 * Math.cos(4.48618455018 + 3083.8382364403 * t);
-        X0 += 0.00000000082 * Math.cos(1.35034038247 + 1552.2237124961 * t);
-        X0 += 0.00000000095 * Math.cos(2.00687862342 + 530.0020928809 * t);
-        X0 += 0.00000000081 * Math.cos(2.73020648895 + 2980.2578272547 * t);
-        X0 += 0.00000000085 * Math.cos(0.15610612016 + 1056.1026293237 * t);
-        X0 += 0.00000000097 * Math.cos(1.61255624836 + 4447.9950498681 * t);
-        X0 += 0.00000000084 * Math.cos(2.96706110524 + 845.8390172677 * t);
-        X0 += 0.00000000114 * Math.cos(2.85738890734 + 3063.8212504419 * t);
-        X0 += 0.00000000114 * Math.cos(0.12478535771 + 3617.89123792471 * t);
-        X0 += 0.00000000085 * Math.cos(1.29452650597 + 23937.6125722575 * t);
-        X0 += 0.00000000085 * Math.cos(4.25238937662 + 54790.1805074615 * t);
-        X0 += 0.00000000086 * Math.cos(4.98647530125 + 23010.1929284189 * t);
-        X0 += 0.00000000085 * Math.cos(1.10962056312 + 8322.3142461127 * t);
-        X0 += 0.00000000083 * Math.cos(3.80381782412 + 20103.2922395959 * t);
-        X0 += 0.00000000112 * Math.cos(5.31910031613 + 5295.5733945469 * t);
-        X0 += 0.00000000081 * Math.cos(2.24487635939 + 3490.7537193101 * t);
-        X0 += 0.00000000081 * Math.cos(0.73729790566 + 3190.9587690565 * t);
-        X0 += 0.00000000099 * Math.cos(1.21508005987 + 4845.6564183093 * t);
-        X0 += 0.00000000094 * Math.cos(5.55603573783 + 796.5590779521 * t);
-        X0 += 0.00000000092 * Math.cos(1.95151196671 + 4452.4984892853 * t);
-        X0 += 0.00000000092 * Math.cos(5.09310462030 + 4452.0108543183 * t);
-        X0 += 0.00000000091 * Math.cos(0.14656244570 + 2544.54098371471 * t);
-        X0 += 0.00000000081 * Math.cos(0.07757124603 + 7166.9530887057 * t);
-        X0 += 0.00000000089 * Math.cos(5.72126604208 + 6311.7688549427 * t);
-        X0 += 0.00000000084 * Math.cos(0.49185882297 + 4822.2656155285 * t);
-        X0 += 0.00000000089 * Math.cos(3.02340140636 + 4049.8460464599 * t);
-        X0 += 0.00000000085 * Math.cos(0.12419247098 + 14716.0840522905 * t);
-        X0 += 0.00000000081 * Math.cos(1.13581368137 + 34363.12178007249 * t);
-        X0 += 0.00000000094 * Math.cos(5.59053061063 + 24532.73276608469 * t);
-        X0 += 0.00000000102 * Math.cos(3.18943570469 + 3524.7258310853 * t);
-        X0 += 0.00000000102 * Math.cos(6.07592386754 + 3156.9866572813 * t);
-        X0 += 0.00000000084 * Math.cos(2.90724107191 + 2942.63993047231 * t);
-        X0 += 0.00000000084 * Math.cos(4.30324979650 + 4801.9102961297 * t);
-        X0 += 0.00000000084 * Math.cos(4.20311871432 + 78263.95324220609 * t);
-        X0 += 0.00000000079 * Math.cos(1.90010229816 + 4424.1166121203 * t);
-        X0 += 0.00000000081 * Math.cos(3.35310168176 + 3333.72544353031 * t);
-        X0 += 0.00000000081 * Math.cos(5.91225789047 + 3347.98704483631 * t);
-        X0 += 0.00000000079 * Math.cos(0.61325160212 + 4029.49072706111 * t);
-        X0 += 0.00000000083 * Math.cos(1.86215319352 + 24336.2492106327 * t);
-        X0 += 0.00000000102 * Math.cos(0.51044670726 + 3119.9559667775 * t);
-        X0 += 0.00000000096 * Math.cos(1.45358314071 + 3324.02404313351 * t);
-        X0 += 0.00000000096 * Math.cos(1.52859112434 + 3357.6884452331 * t);
-        X0 += 0.00000000080 * Math.cos(2.69227009829 + 12987.86801335249 * t);
-        X0 += 0.00000000099 * Math.cos(5.59593346094 + 3376.4640347671 * t);
-        X0 += 0.00000000099 * Math.cos(3.66942611129 + 3305.24845359951 * t);
-        X0 += 0.00000000090 * Math.cos(5.64056301828 + 18028.2472915225 * t);
-        X0 += 0.00000000086 * Math.cos(4.08226718914 + 3296.20241094311 * t);
-        X0 += 0.00000000086 * Math.cos(5.18309238309 + 3385.5100774235 * t);
-        X0 += 0.00000000085 * Math.cos(0.33690474046 + 3487.65067705471 * t);
-        X0 += 0.00000000085 * Math.cos(2.64526952459 + 3194.0618113119 * t);
-        X0 += 0.00000000085 * Math.cos(5.64237858602 + 1758.8968959003 * t);
-        X0 += 0.00000000088 * Math.cos(1.84603493900 + 2751.2589746635 * t);
-        X0 += 0.00000000082 * Math.cos(5.31753219651 + 16460.5773470085 * t);
-        X0 += 0.00000000101 * Math.cos(0.12565896078 + 1162.23088692429 * t);
-        X0 += 0.00000000079 * Math.cos(1.54738520834 + 8186.2688450091 * t);
-        X0 += 0.00000000097 * Math.cos(3.30698966692 + 4025.9676087121 * t);
-        X0 += 0.00000000077 * Math.cos(4.93338786819 + 7446.7741003625 * t);
-        X0 += 0.00000000077 * Math.cos(1.79179521460 + 7447.2617353295 * t);
-        X0 += 0.00000000077 * Math.cos(2.27672892520 + 430.7741616226 * t);
-        X0 += 0.00000000102 * Math.cos(0.88442764654 + 574.5886158183 * t);
-        X0 += 0.00000000079 * Math.cos(5.30896262392 + 1593.2488660304 * t);
-        X0 += 0.00000000090 * Math.cos(6.20338338719 + 12891.88878613469 * t);
-        X0 += 0.00000000079 * Math.cos(4.62780146592 + 101010.75632211348 * t);
-        X0 += 0.00000000100 * Math.cos(1.08134927193 + 1481.1655538617 * t);
-        X0 += 0.00000000106 * Math.cos(3.21478248142 + 13.9832765181 * t);
-        X0 += 0.00000000076 * Math.cos(0.77814474339 + 31979.7618253299 * t);
-        X0 += 0.00000000102 * Math.cos(0.64416843915 + 52168.2874299159 * t);
-        X0 += 0.00000000103 * Math.cos(4.98287803658 + 6777.44789810091 * t);
-        X0 += 0.00000000080 * Math.cos(4.95264640866 + 1954.9609678471 * t);
-        X0 += 0.00000000075 * Math.cos(2.02296081747 + 14797.8411860421 * t);
-        X0 += 0.00000000091 * Math.cos(4.16695567867 + 6836.3341250475 * t);
-        X0 += 0.00000000077 * Math.cos(2.05190836413 + 51770.1384265077 * t);
-        X0 += 0.00000000078 * Math.cos(5.96632605031 + 8831.1572057073 * t);
-        X0 += 0.00000000085 * Math.cos(1.00204631140 + 369.4559984569 * t);
-        X0 += 0.00000000091 * Math.cos(2.17733407719 + 2544.5754910191 * t);
-        X0 += 0.00000000081 * Math.cos(2.52401673663 + 3277.1203458799 * t);
-        X0 += 0.00000000081 * Math.cos(0.45815752842 + 3404.59214248671 * t);
-        X0 += 0.00000000076 * Math.cos(2.28366173471 + 10025.11658096489 * t);
-        X0 += 0.00000000084 * Math.cos(1.03922100960 + 45331.6421770821 * t);
-        X0 += 0.00000000077 * Math.cos(5.30919338072 + 1324.6975230565 * t);
-        X0 += 0.00000000091 * Math.cos(4.40755313323 + 45494.33761226529 * t);
-        X0 += 0.00000000081 * Math.cos(3.60186938439 + 3325.11613803129 * t);
-        X0 += 0.00000000080 * Math.cos(3.36745124689 + 569.0656915109 * t);
-        X0 += 0.00000000075 * Math.cos(0.53983177923 + 9090.7180107311 * t);
-        X0 += 0.00000000090 * Math.cos(1.60142738772 + 1747.3635606694 * t);
-        X0 += 0.00000000073 * Math.cos(2.65616186351 + 7476.2314113615 * t);
-        X0 += 0.00000000091 * Math.cos(0.10088212205 + 8536.10097651771 * t);
-        X0 += 0.00000000091 * Math.cos(3.24247477564 + 8535.6133415507 * t);
-        X0 += 0.00000000102 * Math.cos(3.02727638000 + 8692.08137235589 * t);
-        X0 += 0.00000000073 * Math.cos(0.49752926048 + 16062.4283436003 * t);
-        X0 += 0.00000000087 * Math.cos(5.83216237330 + 15117.75617404771 * t);
-        X0 += 0.00000000077 * Math.cos(3.04573883254 + 20618.2631760171 * t);
-        X0 += 0.00000000086 * Math.cos(4.85081525532 + 5355.4796989721 * t);
-        X0 += 0.00000000081 * Math.cos(5.67577359419 + 2917.2935366893 * t);
-        X0 += 0.00000000077 * Math.cos(5.62600904801 + 1008.30565339989 * t);
-        X0 += 0.00000000081 * Math.cos(0.08809861865 + 2910.2472999913 * t);
-        X0 += 0.00000000072 * Math.cos(5.81652451955 + 928.08378598631 * t);
-        X0 += 0.00000000073 * Math.cos(4.57978609101 + 6809.4875142205 * t);
-        X0 += 0.00000000075 * Math.cos(4.66223023270 + 4106.1616736627 * t);
-        X0 += 0.00000000074 * Math.cos(2.51037789906 + 30376.10882168309 * t);
-        X0 += 0.00000000094 * Math.cos(4.31600433309 + 17809.95712170029 * t);
-        X0 += 0.00000000080 * Math.cos(3.70927773647 + 6151.8450160913 * t);
-        X0 += 0.00000000075 * Math.cos(1.66172010069 + 81604.56566890588 * t);
-        X0 += 0.00000000076 * Math.cos(4.72368572998 + 44534.85653529869 * t);
-        X0 += 0.00000000097 * Math.cos(4.28214074273 + 5749.61794906429 * t);
-        X0 += 0.00000000071 * Math.cos(2.42412250787 + 9384.59719059169 * t);
-        X0 += 0.00000000074 * Math.cos(5.57898561678 + 6603.7181268992 * t);
-        X0 += 0.00000000071 * Math.cos(5.34550834972 + 14061.9646725103 * t);
-        X0 += 0.00000000073 * Math.cos(5.34904276015 + 13635.3664816343 * t);
-        X0 += 0.00000000071 * Math.cos(5.78968211370 + 5622.1540509967 * t);
-        X0 += 0.00000000071 * Math.cos(5.87925588598 + 23539.8838935135 * t);
-        X0 += 0.00000000081 * Math.cos(2.95315282923 + 19573.6012745013 * t);
-        X0 += 0.00000000100 * Math.cos(2.10255812973 + 3399.7424711299 * t);
-        X0 += 0.00000000075 * Math.cos(1.83278893940 + 1214.55851213989 * t);
-        X0 += 0.00000000094 * Math.cos(1.75965102296 + 10816.84383806129 * t);
-        X0 += 0.00000000071 * Math.cos(5.95705764996 + 12140.8449579613 * t);
-        X0 += 0.00000000072 * Math.cos(2.94505111531 + 26887.6098672141 * t);
-        X0 += 0.00000000072 * Math.cos(5.27569870166 + 2010.8565189563 * t);
-        X0 += 0.00000000072 * Math.cos(2.76090980030 + 11560.32153356091 * t);
-        X0 += 0.00000000072 * Math.cos(3.91771440218 + 21957.4369102635 * t);
-        X0 += 0.00000000071 * Math.cos(2.84795147281 + 1619.7537522461 * t);
-        X0 += 0.00000000074 * Math.cos(0.11394719873 + 20205.89737884749 * t);
-        X0 += 0.00000000075 * Math.cos(1.13246079000 + 7477.27904273249 * t);
-        X0 += 0.00000000073 * Math.cos(2.21781912263 + 6493.54352312051 * t);
-        X0 += 0.00000000069 * Math.cos(1.97183985363 + 5784.06574185909 * t);
-        X0 += 0.00000000084 * Math.cos(5.72884329247 + 2118.5200428949 * t);
-        X0 += 0.00000000086 * Math.cos(4.60823055211 + 19404.0210913683 * t);
-        X0 += 0.00000000095 * Math.cos(3.88399746483 + 2104.7805838603 * t);
-        X0 += 0.00000000075 * Math.cos(1.20420559875 + 8748.9124369887 * t);
-        X0 += 0.00000000076 * Math.cos(5.90435441090 + 3268.8005108285 * t);
-        X0 += 0.00000000076 * Math.cos(3.36100516133 + 3412.9119775381 * t);
-        X0 += 0.00000000089 * Math.cos(0.07046438358 + 15643.43638582629 * t);
-        X0 += 0.00000000075 * Math.cos(2.83027542239 + 36106.1029037991 * t);
-        X0 += 0.00000000069 * Math.cos(4.22526525232 + 21272.8804910045 * t);
-        X0 += 0.00000000071 * Math.cos(1.81785521705 + 58857.2749540315 * t);
-        X0 += 0.00000000071 * Math.cos(3.09739469496 + 5298.0936890695 * t);
-        X0 += 0.00000000071 * Math.cos(6.23898734855 + 5298.5813240365 * t);
-        X0 += 0.00000000080 * Math.cos(4.11777412331 + 6151.71039548571 * t);
-        X0 += 0.00000000068 * Math.cos(4.63938903003 + 942.3058794525 * t);
-        X0 += 0.00000000089 * Math.cos(4.89960612432 + 30640.1004561165 * t);
-        X0 += 0.00000000068 * Math.cos(5.87799590803 + 11247.4527822533 * t);
-        X0 += 0.00000000068 * Math.cos(0.82684530792 + 8550.32807051931 * t);
-        X0 += 0.00000000078 * Math.cos(5.32553737695 + 422.9098550964 * t);
-        X0 += 0.00000000068 * Math.cos(3.37824489645 + 4665.3099497563 * t);
-        X0 += 0.00000000068 * Math.cos(0.23665224286 + 4665.7975847233 * t);
-        X0 += 0.00000000070 * Math.cos(1.18575062405 + 2332.3067732999 * t);
-        X0 += 0.00000000070 * Math.cos(4.74024249826 + 13105.18788157269 * t);
-        X0 += 0.00000000071 * Math.cos(0.83016269932 + 3309.86425943471 * t);
-        X0 += 0.00000000071 * Math.cos(2.15201156573 + 3371.8482289319 * t);
-        X0 += 0.00000000080 * Math.cos(4.96945014581 + 9705.6892279263 * t);
-        X0 += 0.00000000079 * Math.cos(2.82952117654 + 16065.82204399129 * t);
-        X0 += 0.00000000070 * Math.cos(2.49836750115 + 7843.94337529091 * t);
-        X0 += 0.00000000068 * Math.cos(5.11241672674 + 9175.9982628317 * t);
-        X0 += 0.00000000081 * Math.cos(0.77055887901 + 94329.53146871387 * t);
-        X0 += 0.00000000067 * Math.cos(5.57581450600 + 6112.6467968557 * t);
-        X0 += 0.00000000075 * Math.cos(1.66052000409 + 1585.38455950421 * t);
-        X0 += 0.00000000091 * Math.cos(2.77249023737 + 7768.2521571691 * t);
-        X0 += 0.00000000068 * Math.cos(1.17229514872 + 11663.4143077795 * t);
-        X0 += 0.00000000069 * Math.cos(2.60276940326 + 23554.1109875151 * t);
-        X0 += 0.00000000072 * Math.cos(0.87830980344 + 3267.2207809637 * t);
-        X0 += 0.00000000072 * Math.cos(2.10386446161 + 3414.4917074029 * t);
-        X0 += 0.00000000073 * Math.cos(3.91879555351 + 2693.84541086851 * t);
-        X0 += 0.00000000069 * Math.cos(1.24929360061 + 3494.7814777077 * t);
-        X0 += 0.00000000069 * Math.cos(1.73288066444 + 3186.93101065891 * t);
-        X0 += 0.00000000068 * Math.cos(0.65498506864 + 5202.1144618517 * t);
-        X0 += 0.00000000085 * Math.cos(2.64920255148 + 4157.5095703985 * t);
-        X0 += 0.00000000066 * Math.cos(5.42206372629 + 15636.32283882549 * t);
-        X0 += 0.00000000093 * Math.cos(3.60627494992 + 1826.07731249979 * t);
-        X0 += 0.00000000075 * Math.cos(5.40680087602 + 15276.21205686389 * t);
-        X0 += 0.00000000067 * Math.cos(2.59734357148 + 290.24166198609 * t);
-        X0 += 0.00000000073 * Math.cos(2.30862354300 + 3237.2758349977 * t);
-        X0 += 0.00000000066 * Math.cos(2.80946310059 + 10823.95738506209 * t);
-        X0 += 0.00000000066 * Math.cos(5.95105575418 + 10824.44502002911 * t);
-        X0 += 0.00000000066 * Math.cos(3.87880650690 + 16056.29511766771 * t);
-        X0 += 0.00000000066 * Math.cos(3.36268639559 + 226.07308589371 * t);
-        X0 += 0.00000000068 * Math.cos(0.42764873920 + 4897.4243911387 * t);
-        X0 += 0.00000000065 * Math.cos(3.82963818162 + 3324.09135343631 * t);
-        X0 += 0.00000000065 * Math.cos(5.43572139061 + 3357.6211349303 * t);
-        X0 += 0.00000000066 * Math.cos(2.06780245805 + 176.44991265029 * t);
-        X0 += 0.00000000069 * Math.cos(1.31713075410 + 1442.03464492889 * t);
-        X0 += 0.00000000065 * Math.cos(2.23384330119 + 12725.20961729149 * t);
-        X0 += 0.00000000071 * Math.cos(0.81327740269 + 11250.55557593809 * t);
-        X0 += 0.00000000066 * Math.cos(0.93383696418 + 415.7963080956 * t);
-        X0 += 0.00000000066 * Math.cos(3.64037605585 + 3738.93793728871 * t);
-        X0 += 0.00000000090 * Math.cos(1.66801934841 + 2885.946877656 * t);
-        X0 += 0.00000000090 * Math.cos(1.31415491664 + 3795.7656107106 * t);
-        X0 += 0.00000000067 * Math.cos(5.42902273412 + 13359.10309563091 * t);
-        X0 += 0.00000000069 * Math.cos(4.43980027024 + 4932.9646228491 * t);
-        X0 += 0.00000000067 * Math.cos(1.57727720508 + 20043.43074271529 * t);
-        X0 += 0.00000000067 * Math.cos(3.84155718574 + 19247.6203708659 * t);
-        X0 += 0.00000000064 * Math.cos(1.06581237341 + 8983.0544867925 * t);
-        X0 += 0.00000000081 * Math.cos(5.58958887514 + 5136.1146879043 * t);
-        X0 += 0.00000000076 * Math.cos(6.10249673727 + 6677.53651762 * t);
-        X0 += 0.00000000064 * Math.cos(0.33226555661 + 6564.1488026629 * t);
-        X0 += 0.00000000063 * Math.cos(2.10390607796 + 10294.2664199675 * t);
-        X0 += 0.00000000063 * Math.cos(5.24549873155 + 10294.7540549345 * t);
-        X0 += 0.00000000065 * Math.cos(5.56809088940 + 0.7365035847 * t);
-        X0 += 0.00000000067 * Math.cos(0.73015466933 + 4396.71505602351 * t);
-        X0 += 0.00000000070 * Math.cos(4.18413149495 + 5088.46362233621 * t);
-        X0 += 0.00000000070 * Math.cos(1.04253884136 + 5087.97598736919 * t);
-        X0 += 0.00000000066 * Math.cos(3.51965735519 + 3332.68810760091 * t);
-        X0 += 0.00000000066 * Math.cos(5.74570221704 + 3349.02438076571 * t);
-        X0 += 0.00000000069 * Math.cos(3.86382217258 + 24076.6884056089 * t);
-        X0 += 0.00000000063 * Math.cos(4.22297067160 + 15004.0267344793 * t);
-        X0 += 0.00000000066 * Math.cos(4.86919893241 + 3303.8606535723 * t);
-        X0 += 0.00000000066 * Math.cos(4.39616063982 + 3377.85183479431 * t);
-        X0 += 0.00000000062 * Math.cos(0.97042406466 + 423.3188900105 * t);
-        X0 += 0.00000000073 * Math.cos(1.49145392699 + 7250.29054491051 * t);
-        X0 += 0.00000000066 * Math.cos(2.48697755670 + 1083.01655045349 * t);
-        X0 += 0.00000000066 * Math.cos(3.23187966901 + 3739.0725578943 * t);
-        X0 += 0.00000000065 * Math.cos(3.95948324523 + 3454.58568375171 * t);
-        X0 += 0.00000000065 * Math.cos(5.30587632700 + 3227.1268046149 * t);
-        X0 += 0.00000000069 * Math.cos(2.59648260174 + 5885.1879177189 * t);
-        X0 += 0.00000000069 * Math.cos(5.75230198725 + 2384.56708821271 * t);
-        X0 += 0.00000000082 * Math.cos(3.81994976939 + 6573.8051469445 * t);
-        X0 += 0.00000000078 * Math.cos(5.28528678757 + 12979.79699205951 * t);
-        X0 += 0.00000000063 * Math.cos(5.02148754857 + 6298.0845036929 * t);
-        X0 += 0.00000000063 * Math.cos(4.29059352218 + 379.12959639069 * t);
-        X0 += 0.00000000078 * Math.cos(0.06919505661 + 17079.0716825527 * t);
-        X0 += 0.00000000063 * Math.cos(5.55828474147 + 4295.6101338159 * t);
-        X0 += 0.00000000072 * Math.cos(2.77553583313 + 7366.5127251091 * t);
-        X0 += 0.00000000064 * Math.cos(1.22906259266 + 21258.6533970029 * t);
-        X0 += 0.00000000061 * Math.cos(5.82279175439 + 3870.52995562571 * t);
-        X0 += 0.00000000069 * Math.cos(2.31182487954 + 6757.7347421587 * t);
-        X0 += 0.00000000061 * Math.cos(1.57037807871 + 3870.5644629301 * t);
-        X0 += 0.00000000061 * Math.cos(2.32660945835 + 8528.49979454989 * t);
-        X0 += 0.00000000072 * Math.cos(1.46495213208 + 3337.95522989351 * t);
-        X0 += 0.00000000072 * Math.cos(1.51722213297 + 3343.7572584731 * t);
-        X0 += 0.00000000081 * Math.cos(4.85945415811 + 17498.5563264279 * t);
-        X0 += 0.00000000080 * Math.cos(4.09102247218 + 68241.62832713968 * t);
-        X0 += 0.00000000070 * Math.cos(1.26769104700 + 5096.3279288624 * t);
-        X0 += 0.00000000070 * Math.cos(4.40928370059 + 5095.8402938954 * t);
-        X0 += 0.00000000062 * Math.cos(3.77365809945 + 629.0954035336 * t);
-        X0 += 0.00000000061 * Math.cos(4.23156701226 + 7056.74676748629 * t);
-        X0 += 0.00000000061 * Math.cos(2.12062311073 + 27035.49639498329 * t);
-        X0 += 0.00000000075 * Math.cos(5.58983904787 + 13531.78607244869 * t);
-        X0 += 0.00000000062 * Math.cos(1.40905160179 + 14591.16800263789 * t);
-        X0 += 0.00000000062 * Math.cos(4.55064425538 + 14591.6556376049 * t);
-        X0 += 0.00000000071 * Math.cos(6.19817850055 + 5622.01943039111 * t);
-        X0 += 0.00000000066 * Math.cos(0.70285666709 + 954.9977071161 * t);
-        X0 += 0.00000000068 * Math.cos(4.29528632626 + 3930.4535137031 * t);
-        X0 += 0.00000000066 * Math.cos(1.57540103682 + 2899.54332433869 * t);
-        X0 += 0.00000000061 * Math.cos(2.92470112475 + 2711.51702316619 * t);
-        X0 += 0.00000000063 * Math.cos(2.75001640915 + 2125.5662795929 * t);
-        X0 += 0.00000000073 * Math.cos(6.02852675275 + 6695.6957648847 * t);
-        X0 += 0.00000000069 * Math.cos(0.56571097024 + 5885.15341041451 * t);
-        X0 += 0.00000000060 * Math.cos(3.57090765756 + 41427.24316569529 * t);
-        X0 += 0.00000000080 * Math.cos(2.18652340630 + 4576.44426953929 * t);
-        X0 += 0.00000000080 * Math.cos(5.32811605989 + 4576.9319045063 * t);
-        X0 += 0.00000000059 * Math.cos(0.92319299629 + 9374.58262930109 * t);
-        X0 += 0.00000000074 * Math.cos(3.32088958533 + 3583.0972131903 * t);
-        X0 += 0.00000000082 * Math.cos(4.24713604667 + 2636.7354245989 * t);
-        X0 += 0.00000000058 * Math.cos(3.21277912522 + 720.89541372269 * t);
-        X0 += 0.00000000058 * Math.cos(3.21277912522 + 721.3830486897 * t);
-        X0 += 0.00000000059 * Math.cos(2.00330526657 + 14319.44721987369 * t);
-        X0 += 0.00000000065 * Math.cos(2.85461191452 + 48274.1056003737 * t);
-        X0 += 0.00000000058 * Math.cos(2.94023903950 + 110.9428248041 * t);
-        X0 += 0.00000000072 * Math.cos(3.25665693297 + 195.21520194411 * t);
-        X0 += 0.00000000059 * Math.cos(1.03271362744 + 13738.4592558529 * t);
-        X0 += 0.00000000063 * Math.cos(2.63685401817 + 9722.9547033137 * t);
-        X0 += 0.00000000080 * Math.cos(6.03050339434 + 3304.2076812538 * t);
-        X0 += 0.00000000080 * Math.cos(3.23485617788 + 3377.5048071128 * t);
-        X0 += 0.00000000058 * Math.cos(0.73211712408 + 16070.5222116693 * t);
-        X0 += 0.00000000070 * Math.cos(4.06333381597 + 11787.8477230005 * t);
-        X0 += 0.00000000062 * Math.cos(3.37913079081 + 4558.6940571887 * t);
-        X0 += 0.00000000076 * Math.cos(0.42812166341 + 1612.70751554809 * t);
-        X0 += 0.00000000071 * Math.cos(2.87138479505 + 6486.4972864225 * t);
-        X0 += 0.00000000062 * Math.cos(0.38524528784 + 437.8877086234 * t);
-        X0 += 0.00000000059 * Math.cos(3.33501995812 + 37057.33367508269 * t);
-        X0 += 0.00000000070 * Math.cos(1.22310296909 + 8116.1286976755 * t);
-        X0 += 0.00000000058 * Math.cos(1.38401229102 + 1969.4444807273 * t);
-        X0 += 0.00000000058 * Math.cos(1.59816197403 + 4712.26800763931 * t);
-        X0 += 0.00000000057 * Math.cos(2.80514625199 + 4565.7402938867 * t);
-        X0 += 0.00000000065 * Math.cos(3.23325458609 + 5526.1075134761 * t);
-        X0 += 0.00000000072 * Math.cos(1.75331960583 + 8948.4720733921 * t);
-        X0 += 0.00000000059 * Math.cos(4.01427864314 + 22854.8398392875 * t);
-        X0 += 0.00000000074 * Math.cos(0.45536940410 + 3192.28988479 * t);
-        X0 += 0.00000000074 * Math.cos(5.73581209791 + 3189.3209393734 * t);
-        X0 += 0.00000000074 * Math.cos(1.18271789974 + 5106.1352346339 * t);
-        X0 += 0.00000000060 * Math.cos(3.98760857931 + 3333.2775649737 * t);
-        X0 += 0.00000000060 * Math.cos(5.27775099292 + 3348.4349233929 * t);
-        X0 += 0.00000000057 * Math.cos(2.42715474002 + 1022.5327474015 * t);
-        X0 += 0.00000000062 * Math.cos(5.31656329809 + 792.53107098389 * t);
-        X0 += 0.00000000055 * Math.cos(5.92010875776 + 3355.5935265089 * t);
-        X0 += 0.00000000055 * Math.cos(3.34525081447 + 3326.11896185771 * t);
-        X0 += 0.00000000057 * Math.cos(3.55845650996 + 3973.1523485295 * t);
-        X0 += 0.00000000057 * Math.cos(2.89164664491 + 15842.9960222297 * t);
-        X0 += 0.00000000071 * Math.cos(4.64519741711 + 418.26050532349 * t);
-        X0 += 0.00000000061 * Math.cos(5.33074649278 + 223.1041404771 * t);
-        X0 += 0.00000000063 * Math.cos(5.97450695245 + 4137.1715046519 * t);
-        X0 += 0.00000000067 * Math.cos(0.28907282931 + 11240.4065455553 * t);
-        X0 += 0.00000000055 * Math.cos(0.37389864441 + 25665.7613008927 * t);
-        X0 += 0.00000000076 * Math.cos(2.93332951447 + 33716.72124838289 * t);
-        X0 += 0.00000000061 * Math.cos(2.45900432418 + 7630.64427985291 * t);
-        X0 += 0.00000000065 * Math.cos(3.96741643938 + 14267.66258598049 * t);
-        X0 += 0.00000000065 * Math.cos(0.82582378579 + 14268.1502209475 * t);
-        X0 += 0.00000000060 * Math.cos(4.38893033458 + 1368.4164353615 * t);
-        X0 += 0.00000000061 * Math.cos(4.63971906183 + 1118.9996095863 * t);
-        X0 += 0.00000000067 * Math.cos(5.86396730577 + 13366.2839529345 * t);
-        return X0;
-    }
-
-
-    static double X1(double t) // 1023 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.01668487239 * Math.cos(4.16976892466 + 0.2438174835 * t);
-        X1 += 0.00551520815 * Math.cos(5.09364818449 + 6681.46867088311 * t);
-        X1 += 0.00077122404 * Math.cos(5.43227875215 + 10022.0810975829 * t);
-        X1 += 0.00033905789 * Math.cos(5.71116244693 + 3340.36860921629 * t);
-        X1 += 0.00013417687 * Math.cos(2.71465693005 + 3340.8562441833 * t);
-        X1 += 0.00009584524 * Math.cos(5.77057197269 + 13362.6935242827 * t);
-        X1 += 0.00002619567 * Math.cos(3.04292130471 + 3337.33312583431 * t);
-        X1 += 0.00002615345 * Math.cos(6.22267850729 + 3344.3793625323 * t);
-        X1 += 0.00001454057 * Math.cos(6.00537388308 + 6680.98103591609 * t);
-        X1 += 0.00001163163 * Math.cos(6.10878130495 + 16703.3059509825 * t);
-        X1 += 0.00000900588 * Math.cos(3.31444263639 + 1059.6257476727 * t);
-        X1 += 0.00000429589 * Math.cos(2.75628228081 + 2942.7072407751 * t);
-        X1 += 0.00000388556 * Math.cos(5.95081376697 + 5622.08674069391 * t);
-        X1 += 0.00000380679 * Math.cos(0.22066211311 + 3739.0052475915 * t);
-        X1 += 0.00000394611 * Math.cos(0.19955281144 + 6684.9917892321 * t);
-        X1 += 0.00000336947 * Math.cos(5.21225980605 + 3149.4079780717 * t);
-        X1 += 0.00000333888 * Math.cos(2.45815226028 + 3185.43584474911 * t);
-        X1 += 0.00000318443 * Math.cos(4.05173927787 + 3532.3045102949 * t);
-        X1 += 0.00000317603 * Math.cos(0.52499208882 + 3496.2766436175 * t);
-        X1 += 0.00000312062 * Math.cos(4.23079808787 + 2544.5582373669 * t);
-        X1 += 0.00000285965 * Math.cos(4.60046760581 + 796.5418242999 * t);
-        X1 += 0.00000259967 * Math.cos(5.02487716401 + 4137.1542509997 * t);
-        X1 += 0.00000205452 * Math.cos(3.20172034630 + 1194.6908277081 * t);
-        X1 += 0.00000140526 * Math.cos(0.16384177624 + 20043.9183776823 * t);
-        X1 += 0.00000159180 * Math.cos(3.57652346172 + 1589.3167127673 * t);
-        X1 += 0.00000133487 * Math.cos(4.63998807852 + 5885.1706640667 * t);
-        X1 += 0.00000132246 * Math.cos(3.70031751325 + 4400.2381743725 * t);
-        X1 += 0.00000126940 * Math.cos(2.82015450407 + 6677.9455525341 * t);
-        X1 += 0.00000102941 * Math.cos(6.05722597437 + 5487.0216606585 * t);
-        X1 += 0.00000128977 * Math.cos(1.79935813905 + 1592.8398311163 * t);
-        X1 += 0.00000101403 * Math.cos(5.54137030567 + 3339.8759231151 * t);
-        X1 += 0.00000101343 * Math.cos(3.72398711211 + 3341.83656525151 * t);
-        X1 += 0.00000089600 * Math.cos(5.87965689031 + 3870.54720927791 * t);
-        X1 += 0.00000084159 * Math.cos(0.39524478086 + 1990.9888345245 * t);
-        X1 += 0.00000093032 * Math.cos(0.00825302856 + 10021.5934626159 * t);
-        X1 += 0.00000079379 * Math.cos(3.91303424877 + 426.8420083595 * t);
-        X1 += 0.00000077187 * Math.cos(0.64135737142 + 7079.61767429131 * t);
-        X1 += 0.00000081451 * Math.cos(5.66551932020 + 5092.3957755993 * t);
-        X1 += 0.00000091218 * Math.cos(5.63424494104 + 2146.4092339587 * t);
-        X1 += 0.00000063951 * Math.cos(5.27338440626 + 2389.1378379327 * t);
-        X1 += 0.00000057311 * Math.cos(0.50275055126 + 10025.6042159319 * t);
-        X1 += 0.00000056935 * Math.cos(1.93125711419 + 3098.1276402093 * t);
-        X1 += 0.00000075514 * Math.cos(3.61046388189 + 4535.3032544079 * t);
-        X1 += 0.00000055567 * Math.cos(1.21839855581 + 9492.3901324883 * t);
-        X1 += 0.00000072076 * Math.cos(1.18180609896 + 5088.8726572503 * t);
-        X1 += 0.00000052967 * Math.cos(1.04882176228 + 3583.5848481573 * t);
-        X1 += 0.00000053267 * Math.cos(2.58802816719 + 4690.7236538421 * t);
-        X1 += 0.00000070583 * Math.cos(3.86667384573 + 2787.2868413409 * t);
-        X1 += 0.00000057299 * Math.cos(0.33406941177 + 7.3573644843 * t);
-        X1 += 0.00000054075 * Math.cos(2.75074198097 + 2957.9597119601 * t);
-        X1 += 0.00000050146 * Math.cos(4.61860820816 + 191.2044486281 * t);
-        X1 += 0.00000046293 * Math.cos(3.99427986110 + 4292.5746504339 * t);
-        X1 += 0.00000049234 * Math.cos(2.50739423398 + 6681.45141723091 * t);
-        X1 += 0.00000058634 * Math.cos(5.40086631171 + 3894.4256470257 * t);
-        X1 += 0.00000048264 * Math.cos(0.23146545625 + 3723.7527764065 * t);
-        X1 += 0.00000049234 * Math.cos(4.53816586556 + 6681.4859245353 * t);
-        X1 += 0.00000055021 * Math.cos(1.11115546675 + 155.17658195069 * t);
-        X1 += 0.00000047402 * Math.cos(5.64225040832 + 6490.0204047715 * t);
-        X1 += 0.00000039275 * Math.cos(1.77443036655 + 1747.7725955835 * t);
-        X1 += 0.00000037297 * Math.cos(0.06860934281 + 3554.1553396213 * t);
-        X1 += 0.00000036066 * Math.cos(2.88742336978 + 3127.5571487453 * t);
-        X1 += 0.00000035298 * Math.cos(2.80382718345 + 6526.04827144891 * t);
-        X1 += 0.00000033577 * Math.cos(0.36673291911 + 2145.92159899169 * t);
-        X1 += 0.00000032981 * Math.cos(5.07340957623 + 3333.7426971825 * t);
-        X1 += 0.00000030372 * Math.cos(0.75673237899 + 1748.2602305505 * t);
-        X1 += 0.00000039114 * Math.cos(5.37767054154 + 7477.7666776995 * t);
-        X1 += 0.00000029430 * Math.cos(5.34497951848 + 6254.8704800071 * t);
-        X1 += 0.00000029559 * Math.cos(4.58393732854 + 951.4745887671 * t);
-        X1 += 0.00000028511 * Math.cos(5.98947307886 + 553.32558535889 * t);
-        X1 += 0.00000027567 * Math.cos(3.74859884789 + 12303.3115940935 * t);
-        X1 += 0.00000027467 * Math.cos(2.19208047399 + 4933.4522578161 * t);
-        X1 += 0.00000028130 * Math.cos(4.24458535882 + 3347.96979118411 * t);
-        X1 += 0.00000034806 * Math.cos(3.17911079826 + 1349.62359217529 * t);
-        X1 += 0.00000024557 * Math.cos(3.16432663502 + 2811.1652790887 * t);
-        X1 += 0.00000024445 * Math.cos(6.22731125031 + 1066.7392946735 * t);
-        X1 += 0.00000029230 * Math.cos(2.65841667918 + 640.1411037975 * t);
-        X1 += 0.00000021272 * Math.cos(3.84506725342 + 4929.92913946711 * t);
-        X1 += 0.00000024027 * Math.cos(0.74730655765 + 382.6527147397 * t);
-        X1 += 0.00000024805 * Math.cos(3.86501438648 + 2119.00767786191 * t);
-        X1 += 0.00000019016 * Math.cos(0.62486368468 + 242.97242145751 * t);
-        X1 += 0.00000018321 * Math.cos(0.60915509257 + 9623.9320941747 * t);
-        X1 += 0.00000017069 * Math.cos(2.30803476254 + 3320.50092478451 * t);
-        X1 += 0.00000016952 * Math.cos(0.67381702286 + 3361.2115635821 * t);
-        X1 += 0.00000016989 * Math.cos(0.50197441357 + 23384.5308043821 * t);
-        X1 += 0.00000016214 * Math.cos(0.58543208283 + 6681.40136058031 * t);
-        X1 += 0.00000016696 * Math.cos(5.51495886637 + 2281.4743139941 * t);
-        X1 += 0.00000016004 * Math.cos(0.45066540723 + 1052.51220067191 * t);
-        X1 += 0.00000017047 * Math.cos(2.70239305232 + 6674.3551238823 * t);
-        X1 += 0.00000014590 * Math.cos(1.92122996858 + 10018.5579792339 * t);
-        X1 += 0.00000016713 * Math.cos(0.66892539570 + 7211.1596359777 * t);
-        X1 += 0.00000017707 * Math.cos(4.03769647872 + 7740.8506010723 * t);
-        X1 += 0.00000016047 * Math.cos(4.24883931225 + 3325.6037729983 * t);
-        X1 += 0.00000015961 * Math.cos(5.01645836303 + 3356.10871536831 * t);
-        X1 += 0.00000016214 * Math.cos(0.17693569958 + 6681.5359811859 * t);
-        X1 += 0.00000013780 * Math.cos(1.54940676591 + 12833.00255918811 * t);
-        X1 += 0.00000014630 * Math.cos(0.50614270793 + 2273.8731320263 * t);
-        X1 += 0.00000012478 * Math.cos(4.09396331041 + 6682.44899195131 * t);
-        X1 += 0.00000012677 * Math.cos(0.77220148195 + 5331.6012612243 * t);
-        X1 += 0.00000013489 * Math.cos(0.04091965178 + 2288.1002260279 * t);
-        X1 += 0.00000015563 * Math.cos(5.36370101191 + 4562.70481050471 * t);
-        X1 += 0.00000013052 * Math.cos(4.49166387640 + 3767.4544350593 * t);
-        X1 += 0.00000011294 * Math.cos(2.16352014717 + 1350.1112271423 * t);
-        X1 += 0.00000011234 * Math.cos(2.31197110602 + 6438.7400669091 * t);
-        X1 += 0.00000012654 * Math.cos(5.55709903692 + 529.44714761109 * t);
-        X1 += 0.00000012118 * Math.cos(1.92353601510 + 537.0483295789 * t);
-        X1 += 0.00000011323 * Math.cos(2.45817739410 + 522.8212355773 * t);
-        X1 += 0.00000010300 * Math.cos(3.95714627958 + 7875.91568110771 * t);
-        X1 += 0.00000010510 * Math.cos(3.03392108066 + 5614.9731936931 * t);
-        X1 += 0.00000012502 * Math.cos(1.00420796908 + 10420.23010099111 * t);
-        X1 += 0.00000010338 * Math.cos(4.87546518042 + 10022.0983512351 * t);
-        X1 += 0.00000008834 * Math.cos(1.54079392488 + 3205.7911641479 * t);
-        X1 += 0.00000009393 * Math.cos(0.60719486474 + 6836.8890703173 * t);
-        X1 += 0.00000011331 * Math.cos(0.31834272198 + 6041.5713845691 * t);
-        X1 += 0.00000008381 * Math.cos(1.44095675543 + 3475.92132421871 * t);
-        X1 += 0.00000009243 * Math.cos(0.29804306221 + 529.9347825781 * t);
-        X1 += 0.00000010338 * Math.cos(2.84469357959 + 10022.06384393071 * t);
-        X1 += 0.00000007850 * Math.cos(4.26599008644 + 2700.4713229023 * t);
-        X1 += 0.00000008102 * Math.cos(0.82050642338 + 13366.21664263171 * t);
-        X1 += 0.00000007470 * Math.cos(3.66222275723 + 397.9051859247 * t);
-        X1 += 0.00000007391 * Math.cos(4.07636898152 + 15643.9240207933 * t);
-        X1 += 0.00000007798 * Math.cos(4.21954637832 + 6127.8992680407 * t);
-        X1 += 0.00000007318 * Math.cos(3.76030403702 + 1751.2957139325 * t);
-        X1 += 0.00000007398 * Math.cos(0.83000682555 + 2942.21960580809 * t);
-        X1 += 0.00000007000 * Math.cos(0.67061782231 + 3343.8917275653 * t);
-        X1 += 0.00000006961 * Math.cos(2.51913263895 + 5629.2002876947 * t);
-        X1 += 0.00000007023 * Math.cos(0.28436722670 + 13362.2058893157 * t);
-        X1 += 0.00000006810 * Math.cos(3.62419194021 + 4690.23601887509 * t);
-        X1 += 0.00000006681 * Math.cos(4.61242157950 + 3178.38960805111 * t);
-        X1 += 0.00000006243 * Math.cos(3.10320630386 + 6298.57213865991 * t);
-        X1 += 0.00000006294 * Math.cos(4.65274248196 + 3503.3228803155 * t);
-        X1 += 0.00000006358 * Math.cos(5.59134148149 + 3316.97780643551 * t);
-        X1 += 0.00000007854 * Math.cos(5.63695074863 + 5729.7502646325 * t);
-        X1 += 0.00000006174 * Math.cos(2.23158424330 + 5088.3850222833 * t);
-        X1 += 0.00000006298 * Math.cos(3.67401727587 + 3364.7346819311 * t);
-        X1 += 0.00000006734 * Math.cos(6.02579303320 + 9830.6328314713 * t);
-        X1 += 0.00000007590 * Math.cos(4.92016746886 + 8962.6991673937 * t);
-        X1 += 0.00000006074 * Math.cos(5.14201333067 + 6151.7777057885 * t);
-        X1 += 0.00000007279 * Math.cos(0.63824331472 + 6894.76776632111 * t);
-        X1 += 0.00000006015 * Math.cos(1.64381432255 + 853.4401992355 * t);
-        X1 += 0.00000005586 * Math.cos(5.72111629827 + 10818.3791043993 * t);
-        X1 += 0.00000005539 * Math.cos(0.97704679440 + 1758.40926093329 * t);
-        X1 += 0.00000005309 * Math.cos(4.22207781323 + 2648.6986429565 * t);
-        X1 += 0.00000006531 * Math.cos(5.82376804487 + 6680.4883498149 * t);
-        X1 += 0.00000005498 * Math.cos(1.38930771941 + 6924.1972748571 * t);
-        X1 += 0.00000005070 * Math.cos(6.24979955975 + 1596.43025976811 * t);
-        X1 += 0.00000004841 * Math.cos(0.45977971146 + 6158.8912527893 * t);
-        X1 += 0.00000005011 * Math.cos(3.60259248893 + 433.9555553603 * t);
-        X1 += 0.00000005999 * Math.cos(5.01730803001 + 2280.98667902709 * t);
-        X1 += 0.00000004334 * Math.cos(0.94400971144 + 12964.5445208745 * t);
-        X1 += 0.00000005929 * Math.cos(5.59565118419 + 796.0541893329 * t);
-        X1 += 0.00000004781 * Math.cos(1.04203007490 + 6144.6641587877 * t);
-        X1 += 0.00000004633 * Math.cos(4.21476805887 + 2914.2580533073 * t);
-        X1 += 0.00000004948 * Math.cos(4.14593775556 + 213.0552779545 * t);
-        X1 += 0.00000003970 * Math.cos(0.34201182432 + 3312.4070567155 * t);
-        X1 += 0.00000004094 * Math.cos(1.37911547191 + 2810.6776441217 * t);
-        X1 += 0.00000003913 * Math.cos(2.63739420106 + 3369.3054316511 * t);
-        X1 += 0.00000003870 * Math.cos(5.50156644179 + 641.12142486571 * t);
-        X1 += 0.00000004135 * Math.cos(5.02138732910 + 4033.0138454101 * t);
-        X1 += 0.00000005101 * Math.cos(5.02688997011 + 4292.0870154669 * t);
-        X1 += 0.00000003721 * Math.cos(4.59533823527 + 3346.3791684907 * t);
-        X1 += 0.00000003721 * Math.cos(4.67002133696 + 3335.3333198759 * t);
-        X1 += 0.00000004814 * Math.cos(4.64078611480 + 6688.5822178839 * t);
-        X1 += 0.00000003684 * Math.cos(3.92161821873 + 5621.5991057269 * t);
-        X1 += 0.00000003561 * Math.cos(2.53539651638 + 8274.0646845159 * t);
-        X1 += 0.00000004122 * Math.cos(3.14545069009 + 9866.66069814871 * t);
-        X1 += 0.00000003629 * Math.cos(1.25761657663 + 3304.8283775059 * t);
-        X1 += 0.00000004333 * Math.cos(1.75353700500 + 6.86972951729 * t);
-        X1 += 0.00000004795 * Math.cos(3.57148917867 + 951.9622237341 * t);
-        X1 += 0.00000003622 * Math.cos(5.99777439310 + 1582.2031657665 * t);
-        X1 += 0.00000003577 * Math.cos(1.72457610482 + 3376.88411086071 * t);
-        X1 += 0.00000004037 * Math.cos(5.59805067484 + 8433.00820229911 * t);
-        X1 += 0.00000003824 * Math.cos(2.99247114805 + 8969.8127143945 * t);
-        X1 += 0.00000003414 * Math.cos(0.51623493472 + 10022.1484078857 * t);
-        X1 += 0.00000004384 * Math.cos(4.08397917912 + 11773.6206289989 * t);
-        X1 += 0.00000004071 * Math.cos(3.45831553278 + 3863.4336622771 * t);
-        X1 += 0.00000003905 * Math.cos(3.45281463337 + 8955.58562039291 * t);
-        X1 += 0.00000004291 * Math.cos(5.71320129335 + 2818.2788260895 * t);
-        X1 += 0.00000003570 * Math.cos(0.88507363603 + 1744.1821669317 * t);
-        X1 += 0.00000003461 * Math.cos(1.44846796079 + 7633.1870771337 * t);
-        X1 += 0.00000003246 * Math.cos(0.50620427647 + 149.8070146181 * t);
-        X1 += 0.00000003160 * Math.cos(3.18977931848 + 3980.7535304973 * t);
-        X1 += 0.00000004113 * Math.cos(5.50708372849 + 213.5429129215 * t);
-        X1 += 0.00000003117 * Math.cos(3.81812196204 + 3336.9749088253 * t);
-        X1 += 0.00000003117 * Math.cos(5.44723761019 + 3344.73757954131 * t);
-        X1 += 0.00000003201 * Math.cos(0.14972615341 + 3893.93801205869 * t);
-        X1 += 0.00000003517 * Math.cos(3.81060565872 + 7064.3652031063 * t);
-        X1 += 0.00000003078 * Math.cos(2.90200490041 + 7235.0380737255 * t);
-        X1 += 0.00000003414 * Math.cos(0.92482016698 + 10022.01378728011 * t);
-        X1 += 0.00000002996 * Math.cos(4.05759423372 + 419.72846135871 * t);
-        X1 += 0.00000003014 * Math.cos(1.27034835453 + 10551.7720626775 * t);
-        X1 += 0.00000003089 * Math.cos(1.78845183673 + 13359.1704059337 * t);
-        X1 += 0.00000003393 * Math.cos(1.79839879835 + 3336.8454908673 * t);
-        X1 += 0.00000002930 * Math.cos(5.25870617721 + 2487.1722274643 * t);
-        X1 += 0.00000002899 * Math.cos(0.10521459121 + 155.6642169177 * t);
-        X1 += 0.00000002868 * Math.cos(4.15178337256 + 8270.5415661669 * t);
-        X1 += 0.00000003341 * Math.cos(0.09875387834 + 8031.3360805419 * t);
-        X1 += 0.00000002771 * Math.cos(5.49404613753 + 3.2793008655 * t);
-        X1 += 0.00000003548 * Math.cos(3.33993922239 + 2699.9786368011 * t);
-        X1 += 0.00000003139 * Math.cos(4.06806080343 + 5459.6201045617 * t);
-        X1 += 0.00000002993 * Math.cos(6.05593455661 + 3.76693583251 * t);
-        X1 += 0.00000002558 * Math.cos(5.45850946255 + 7632.6994421667 * t);
-        X1 += 0.00000002973 * Math.cos(1.40668693913 + 398.3928208917 * t);
-        X1 += 0.00000002555 * Math.cos(4.97943235904 + 553.8132203259 * t);
-        X1 += 0.00000002436 * Math.cos(1.11031101787 + 3723.26514143949 * t);
-        X1 += 0.00000003398 * Math.cos(3.58689364383 + 9225.7830907665 * t);
-        X1 += 0.00000002528 * Math.cos(5.78755929713 + 3333.8100074853 * t);
-        X1 += 0.00000002381 * Math.cos(4.54326140537 + 1221.6047488379 * t);
-        X1 += 0.00000002367 * Math.cos(5.24552499745 + 8429.4850839501 * t);
-        X1 += 0.00000002452 * Math.cos(0.21632651454 + 2766.5114458485 * t);
-        X1 += 0.00000003001 * Math.cos(5.91830671191 + 3981.73385156551 * t);
-        X1 += 0.00000002325 * Math.cos(0.86902446422 + 9382.18381126891 * t);
-        X1 += 0.00000003095 * Math.cos(1.72392494967 + 6283.3196674749 * t);
-        X1 += 0.00000002582 * Math.cos(2.98943082072 + 5085.2822285985 * t);
-        X1 += 0.00000002407 * Math.cos(0.81452071345 + 9808.78200214491 * t);
-        X1 += 0.00000002189 * Math.cos(0.31848733903 + 4407.3517213733 * t);
-        X1 += 0.00000002276 * Math.cos(4.18243740519 + 1194.2031927411 * t);
-        X1 += 0.00000002512 * Math.cos(1.88451079218 + 16173.6149858879 * t);
-        X1 += 0.00000002182 * Math.cos(5.33696085883 + 1751.7833488995 * t);
-        X1 += 0.00000002219 * Math.cos(4.06490625389 + 8030.8484455749 * t);
-        X1 += 0.00000002433 * Math.cos(4.37190902188 + 11081.46302777211 * t);
-        X1 += 0.00000002433 * Math.cos(1.32659636118 + 5828.2722891311 * t);
-        X1 += 0.00000002109 * Math.cos(3.63361421871 + 15114.2330556987 * t);
-        X1 += 0.00000002719 * Math.cos(3.70485969332 + 6468.1695754451 * t);
-        X1 += 0.00000002025 * Math.cos(2.77266249790 + 3915.2010425181 * t);
-        X1 += 0.00000001887 * Math.cos(0.17014232268 + 76.50988875911 * t);
-        X1 += 0.00000001853 * Math.cos(1.81086841675 + 6151.2900708215 * t);
-        X1 += 0.00000001844 * Math.cos(2.78954932950 + 1692.40948698591 * t);
-        X1 += 0.00000002127 * Math.cos(3.21512647219 + 3347.90248088131 * t);
-        X1 += 0.00000001808 * Math.cos(3.74769873780 + 6040.5910635009 * t);
-        X1 += 0.00000001865 * Math.cos(1.35270983937 + 13760.8425276909 * t);
-        X1 += 0.00000001998 * Math.cos(6.12517040311 + 5084.7945936315 * t);
-        X1 += 0.00000001821 * Math.cos(3.24689091699 + 5099.50932260011 * t);
-        X1 += 0.00000001970 * Math.cos(5.21835467754 + 8827.6340873583 * t);
-        X1 += 0.00000001948 * Math.cos(5.63032630522 + 5099.0216876331 * t);
-        X1 += 0.00000001717 * Math.cos(5.21576113138 + 13362.7107779349 * t);
-        X1 += 0.00000001785 * Math.cos(2.44739830297 + 6660.6932753907 * t);
-        X1 += 0.00000001744 * Math.cos(1.79434895453 + 6816.53375091851 * t);
-        X1 += 0.00000001717 * Math.cos(3.18498950602 + 13362.6762706305 * t);
-        X1 += 0.00000001955 * Math.cos(3.63998937844 + 191.6920835951 * t);
-        X1 += 0.00000001839 * Math.cos(5.31098518915 + 220.6564599223 * t);
-        X1 += 0.00000001739 * Math.cos(3.64901391277 + 3281.4823822697 * t);
-        X1 += 0.00000002059 * Math.cos(0.84035144431 + 26725.1432310819 * t);
-        X1 += 0.00000001828 * Math.cos(5.65900245619 + 6247.7569330063 * t);
-        X1 += 0.00000002136 * Math.cos(1.71869001756 + 6872.91693699471 * t);
-        X1 += 0.00000001698 * Math.cos(5.61638598924 + 3400.23010609691 * t);
-        X1 += 0.00000001534 * Math.cos(3.28685934658 + 574.10098085129 * t);
-        X1 += 0.00000001533 * Math.cos(3.03625020180 + 3877.6607562787 * t);
-        X1 += 0.00000001541 * Math.cos(1.53159919865 + 3495.78900865049 * t);
-        X1 += 0.00000001628 * Math.cos(4.45153470681 + 10023.06141865111 * t);
-        X1 += 0.00000001807 * Math.cos(5.37059175260 + 6696.72114206811 * t);
-        X1 += 0.00000001767 * Math.cos(2.64991180130 + 6661.11335148431 * t);
-        X1 += 0.00000001525 * Math.cos(5.97153443990 + 206.42936592071 * t);
-        X1 += 0.00000001957 * Math.cos(0.57667231930 + 7234.5504387585 * t);
-        X1 += 0.00000001381 * Math.cos(4.29497602044 + 11216.5281078075 * t);
-        X1 += 0.00000001688 * Math.cos(4.89795336991 + 7108.06686175911 * t);
-        X1 += 0.00000001517 * Math.cos(5.15570920014 + 3340.38586286849 * t);
-        X1 += 0.00000001506 * Math.cos(3.91589541430 + 8440.1217492999 * t);
-        X1 += 0.00000001379 * Math.cos(1.26307005719 + 3127.0695137783 * t);
-        X1 += 0.00000001360 * Math.cos(2.27637695603 + 3074.24920246151 * t);
-        X1 += 0.00000001516 * Math.cos(3.12494539721 + 3340.3513555641 * t);
-        X1 += 0.00000001302 * Math.cos(4.55773751868 + 6666.2161996981 * t);
-        X1 += 0.00000001588 * Math.cos(1.11386226420 + 8672.21368792411 * t);
-        X1 += 0.00000001305 * Math.cos(0.97554659415 + 6701.8239902819 * t);
-        X1 += 0.00000001529 * Math.cos(0.56980933613 + 3547.0417926205 * t);
-        X1 += 0.00000001317 * Math.cos(1.45792516402 + 7063.87756813929 * t);
-        X1 += 0.00000001316 * Math.cos(6.26946114201 + 8432.52056733209 * t);
-        X1 += 0.00000001510 * Math.cos(2.38931811093 + 3134.67069574611 * t);
-        X1 += 0.00000001232 * Math.cos(1.35650102913 + 1228.7182958387 * t);
-        X1 += 0.00000001498 * Math.cos(3.04227517263 + 10014.9675505821 * t);
-        X1 += 0.00000001240 * Math.cos(1.97737579625 + 6836.40143535029 * t);
-        X1 += 0.00000001407 * Math.cos(4.40841782051 + 18984.5364474931 * t);
-        X1 += 0.00000001219 * Math.cos(0.70593882337 + 3607.46328590511 * t);
-        X1 += 0.00000001443 * Math.cos(4.48857942604 + 1059.1381127057 * t);
-        X1 += 0.00000001157 * Math.cos(1.26136880250 + 110.45013870291 * t);
-        X1 += 0.00000001195 * Math.cos(0.29423080541 + 11371.9485072417 * t);
-        X1 += 0.00000001173 * Math.cos(1.00908500027 + 10575.1628654583 * t);
-        X1 += 0.00000001175 * Math.cos(1.90125230900 + 3320.0808486909 * t);
-        X1 += 0.00000001171 * Math.cos(1.07324612452 + 3361.6316396757 * t);
-        X1 += 0.00000001509 * Math.cos(4.60862746462 + 6702.2440663755 * t);
-        X1 += 0.00000001157 * Math.cos(1.07614409578 + 10235.3801930209 * t);
-        X1 += 0.00000001097 * Math.cos(3.27118145757 + 12936.0953334067 * t);
-        X1 += 0.00000001517 * Math.cos(2.92274898055 + 3097.64000524229 * t);
-        X1 += 0.00000001089 * Math.cos(2.28516107614 + 3170.1833735641 * t);
-        X1 += 0.00000001068 * Math.cos(3.73801386165 + 6685.0590995349 * t);
-        X1 += 0.00000001082 * Math.cos(2.47496216267 + 6531.9054737485 * t);
-        X1 += 0.00000001365 * Math.cos(4.09642340658 + 1039.27042827391 * t);
-        X1 += 0.00000001415 * Math.cos(2.62020577266 + 647.25465079831 * t);
-        X1 += 0.00000001028 * Math.cos(5.31972930210 + 6261.9840270079 * t);
-        X1 += 0.00000001020 * Math.cos(0.69687736418 + 3511.5291148025 * t);
-        X1 += 0.00000001072 * Math.cos(3.31077938125 + 6677.8782422313 * t);
-        X1 += 0.00000000994 * Math.cos(0.71631497535 + 2921.37160030811 * t);
-        X1 += 0.00000000960 * Math.cos(6.15441067021 + 383.1403497067 * t);
-        X1 += 0.00000001295 * Math.cos(1.19205099554 + 3738.51761262449 * t);
-        X1 += 0.00000001081 * Math.cos(3.12534442949 + 2906.6568713395 * t);
-        X1 += 0.00000000958 * Math.cos(0.18373503494 + 4989.3030013807 * t);
-        X1 += 0.00000000985 * Math.cos(3.76783660715 + 8425.8946552983 * t);
-        X1 += 0.00000000957 * Math.cos(3.10714680748 + 10575.6505004253 * t);
-        X1 += 0.00000000922 * Math.cos(4.56395067955 + 9468.51169474051 * t);
-        X1 += 0.00000000997 * Math.cos(2.53736303913 + 4562.2171755377 * t);
-        X1 += 0.00000000918 * Math.cos(0.10711401132 + 13171.2452581711 * t);
-        X1 += 0.00000000929 * Math.cos(5.90027659664 + 10973.3118688665 * t);
-        X1 += 0.00000000902 * Math.cos(0.05631596164 + 3561.26888662211 * t);
-        X1 += 0.00000001212 * Math.cos(5.52073488118 + 2804.05173208791 * t);
-        X1 += 0.00000000887 * Math.cos(2.35910260079 + 3760.3408880585 * t);
-        X1 += 0.00000000876 * Math.cos(1.69293209630 + 956.53297345411 * t);
-        X1 += 0.00000001037 * Math.cos(2.59899224317 + 9779.3524936089 * t);
-        X1 += 0.00000000929 * Math.cos(5.98408419364 + 9070.3626913323 * t);
-        X1 += 0.00000000857 * Math.cos(2.76482019861 + 1592.3521961493 * t);
-        X1 += 0.00000000840 * Math.cos(0.12599209397 + 2126.1212248627 * t);
-        X1 += 0.00000000845 * Math.cos(2.81776300450 + 3120.4436017445 * t);
-        X1 += 0.00000000954 * Math.cos(2.62936052400 + 2920.8839653411 * t);
-        X1 += 0.00000000880 * Math.cos(2.47516322984 + 3313.45468808651 * t);
-        X1 += 0.00000001010 * Math.cos(1.04761636483 + 3253.5480396435 * t);
-        X1 += 0.00000001124 * Math.cos(1.69207540981 + 10973.7995038335 * t);
-        X1 += 0.00000000870 * Math.cos(0.50701374292 + 3368.25780028011 * t);
-        X1 += 0.00000000983 * Math.cos(4.50403465372 + 9595.4829067069 * t);
-        X1 += 0.00000000852 * Math.cos(5.23864143891 + 11770.0975106499 * t);
-        X1 += 0.00000000833 * Math.cos(4.23151062947 + 8962.2115324267 * t);
-        X1 += 0.00000000824 * Math.cos(2.58971694742 + 1861.5020351519 * t);
-        X1 += 0.00000000974 * Math.cos(1.93463517204 + 3428.16444872311 * t);
-        X1 += 0.00000001121 * Math.cos(1.14643572651 + 16706.8290693315 * t);
-        X1 += 0.00000000794 * Math.cos(1.89288433548 + 9168.88471583091 * t);
-        X1 += 0.00000001033 * Math.cos(4.24581346686 + 5091.90814063229 * t);
-        X1 += 0.00000000766 * Math.cos(2.74496789725 + 3443.94901840191 * t);
-        X1 += 0.00000000797 * Math.cos(1.27369538416 + 6282.83203250789 * t);
-        X1 += 0.00000000758 * Math.cos(6.06572380841 + 14158.9915310991 * t);
-        X1 += 0.00000000758 * Math.cos(4.05984927529 + 10404.9776298061 * t);
-        X1 += 0.00000000769 * Math.cos(3.45170944257 + 9639.18456535971 * t);
-        X1 += 0.00000000762 * Math.cos(4.34975730450 + 2699.49100183409 * t);
-        X1 += 0.00000000740 * Math.cos(3.37186639218 + 6438.2524319421 * t);
-        X1 += 0.00000000761 * Math.cos(3.02473744131 + 633.0275567967 * t);
-        X1 += 0.00000000800 * Math.cos(4.79153045650 + 6519.0020347509 * t);
-        X1 += 0.00000000725 * Math.cos(3.17644612903 + 6475.28312244591 * t);
-        X1 += 0.00000000730 * Math.cos(3.02102816704 + 6709.91785835091 * t);
-        X1 += 0.00000000766 * Math.cos(6.23897845769 + 3148.9203431047 * t);
-        X1 += 0.00000000795 * Math.cos(1.28741844431 + 16305.1569475743 * t);
-        X1 += 0.00000000701 * Math.cos(0.13673007891 + 4569.3307225385 * t);
-        X1 += 0.00000000750 * Math.cos(6.08088023817 + 3297.1373318783 * t);
-        X1 += 0.00000000762 * Math.cos(3.46520920498 + 2544.07060239989 * t);
-        X1 += 0.00000000695 * Math.cos(5.64254870753 + 2700.9589578693 * t);
-        X1 += 0.00000000688 * Math.cos(5.00398855432 + 10029.1946445837 * t);
-        X1 += 0.00000000923 * Math.cos(2.40915411891 + 10177.01386205009 * t);
-        X1 += 0.00000000737 * Math.cos(3.18449445655 + 3384.5751564883 * t);
-        X1 += 0.00000000674 * Math.cos(2.97028549448 + 2807.6421607397 * t);
-        X1 += 0.00000000845 * Math.cos(0.83945644325 + 9499.5036794891 * t);
-        X1 += 0.00000000645 * Math.cos(1.31214998001 + 1214.4912018371 * t);
-        X1 += 0.00000000629 * Math.cos(0.28992570288 + 3237.7634699647 * t);
-        X1 += 0.00000000627 * Math.cos(1.11050059243 + 13149.3944288447 * t);
-        X1 += 0.00000000632 * Math.cos(2.81036789867 + 6605.2025996075 * t);
-        X1 += 0.00000000710 * Math.cos(3.89496660928 + 6461.0560284443 * t);
-        X1 += 0.00000000701 * Math.cos(2.59503044929 + 3370.2857527193 * t);
-        X1 += 0.00000000701 * Math.cos(0.38714381576 + 3311.4267356473 * t);
-        X1 += 0.00000000607 * Math.cos(6.17244952085 + 949.4194264533 * t);
-        X1 += 0.00000000603 * Math.cos(2.72434120082 + 12566.3955174663 * t);
-        X1 += 0.00000000605 * Math.cos(4.55268583903 + 11243.9296639043 * t);
-        X1 += 0.00000000719 * Math.cos(3.39790369460 + 12310.42514109431 * t);
-        X1 += 0.00000000585 * Math.cos(3.28767074464 + 5827.78465416409 * t);
-        X1 += 0.00000000622 * Math.cos(5.63029890672 + 7903.3172372045 * t);
-        X1 += 0.00000000633 * Math.cos(5.14454720349 + 691.9137837433 * t);
-        X1 += 0.00000000601 * Math.cos(3.81540155391 + 9778.8648586419 * t);
-        X1 += 0.00000000580 * Math.cos(0.54616275524 + 16702.81831601549 * t);
-        X1 += 0.00000000598 * Math.cos(2.15895090295 + 3340.8734978355 * t);
-        X1 += 0.00000000587 * Math.cos(2.84018169062 + 13517.62628874989 * t);
-        X1 += 0.00000000646 * Math.cos(5.77534161373 + 2111.8941308611 * t);
-        X1 += 0.00000000592 * Math.cos(4.73533629827 + 2301.8296333929 * t);
-        X1 += 0.00000000598 * Math.cos(0.12817703817 + 3340.83899053111 * t);
-        X1 += 0.00000000551 * Math.cos(4.21218171420 + 2693.3577759015 * t);
-        X1 += 0.00000000544 * Math.cos(1.97116952941 + 16699.7828326335 * t);
-        X1 += 0.00000000623 * Math.cos(1.72895571381 + 10264.80970155691 * t);
-        X1 += 0.00000000539 * Math.cos(0.82048737136 + 3490.4194413179 * t);
-        X1 += 0.00000000568 * Math.cos(2.68750434726 + 1437.41943168211 * t);
-        X1 += 0.00000000557 * Math.cos(0.85462599459 + 13362.7608345855 * t);
-        X1 += 0.00000000530 * Math.cos(2.83578333137 + 4555.59126350391 * t);
-        X1 += 0.00000000647 * Math.cos(0.93860283834 + 4393.1246273717 * t);
-        X1 += 0.00000000575 * Math.cos(5.57774190632 + 5884.68302909969 * t);
-        X1 += 0.00000000529 * Math.cos(6.20686668225 + 1376.0176173293 * t);
-        X1 += 0.00000000537 * Math.cos(0.00980371467 + 3874.07032762691 * t);
-        X1 += 0.00000000584 * Math.cos(2.12240201386 + 4194.0526259353 * t);
-        X1 += 0.00000000507 * Math.cos(2.19313676678 + 2177.8939048085 * t);
-        X1 += 0.00000000505 * Math.cos(1.37897438890 + 9485.2765854875 * t);
-        X1 += 0.00000000510 * Math.cos(5.74338619548 + 11243.44202893729 * t);
-        X1 += 0.00000000528 * Math.cos(0.09425635417 + 4555.10362853689 * t);
-        X1 += 0.00000000499 * Math.cos(0.79138578393 + 3340.43591951909 * t);
-        X1 += 0.00000000501 * Math.cos(2.93965768481 + 224.5886131854 * t);
-        X1 += 0.00000000525 * Math.cos(0.94887121150 + 6684.5041542651 * t);
-        X1 += 0.00000000670 * Math.cos(5.94569787504 + 6657.59023313531 * t);
-        X1 += 0.00000000634 * Math.cos(1.62056513361 + 242.4847864905 * t);
-        X1 += 0.00000000513 * Math.cos(4.94013592097 + 3233.19272024471 * t);
-        X1 += 0.00000000490 * Math.cos(4.17557345892 + 3774.56798206011 * t);
-        X1 += 0.00000000634 * Math.cos(3.69885606720 + 2707.58486990309 * t);
-        X1 += 0.00000000613 * Math.cos(4.40032363311 + 5989.3110696563 * t);
-        X1 += 0.00000000492 * Math.cos(4.32515466341 + 3448.5197681219 * t);
-        X1 += 0.00000000616 * Math.cos(5.16594414687 + 5642.4420600927 * t);
-        X1 += 0.00000000555 * Math.cos(3.80576965537 + 18454.8454823985 * t);
-        X1 += 0.00000000463 * Math.cos(1.38847352998 + 3229.6696018957 * t);
-        X1 += 0.00000000507 * Math.cos(5.87248459784 + 4136.66661603269 * t);
-        X1 += 0.00000000477 * Math.cos(3.66215350045 + 12296.1980470927 * t);
-        X1 += 0.00000000462 * Math.cos(1.34104474279 + 8827.14645239129 * t);
-        X1 += 0.00000000444 * Math.cos(3.95877289512 + 6705.3471086309 * t);
-        X1 += 0.00000000549 * Math.cos(3.18688547095 + 3333.2550622155 * t);
-        X1 += 0.00000000443 * Math.cos(1.59367641062 + 3452.04288647091 * t);
-        X1 += 0.00000000557 * Math.cos(1.26314936469 + 13362.62621397991 * t);
-        X1 += 0.00000000437 * Math.cos(1.45419351715 + 13915.77529215809 * t);
-        X1 += 0.00000000498 * Math.cos(1.19917091183 + 3340.3012989135 * t);
-        X1 += 0.00000000424 * Math.cos(5.72891764326 + 2301.34199842589 * t);
-        X1 += 0.00000000433 * Math.cos(4.48268877222 + 6843.9353070153 * t);
-        X1 += 0.00000000494 * Math.cos(3.48540091775 + 13207.27312484851 * t);
-        X1 += 0.00000000402 * Math.cos(1.71994710298 + 6571.2623496637 * t);
-        X1 += 0.00000000453 * Math.cos(3.24616258868 + 3184.9482097821 * t);
-        X1 += 0.00000000413 * Math.cos(4.34476522794 + 8800.2325312615 * t);
-        X1 += 0.00000000407 * Math.cos(6.08186909440 + 6048.6849315699 * t);
-        X1 += 0.00000000488 * Math.cos(2.98211910254 + 2222.1004520805 * t);
-        X1 += 0.00000000556 * Math.cos(0.32985654758 + 6034.4578375683 * t);
-        X1 += 0.00000000421 * Math.cos(4.49869717068 + 4379.8828549737 * t);
-        X1 += 0.00000000472 * Math.cos(0.33931417528 + 4937.0426864679 * t);
-        X1 += 0.00000000392 * Math.cos(5.13497859630 + 134.8212625519 * t);
-        X1 += 0.00000000515 * Math.cos(5.18562869638 + 6675.9457465757 * t);
-        X1 += 0.00000000407 * Math.cos(1.72332746589 + 3392.13658204571 * t);
-        X1 += 0.00000000407 * Math.cos(1.25884679916 + 3289.5759063209 * t);
-        X1 += 0.00000000474 * Math.cos(1.74795831788 + 13892.3844893773 * t);
-        X1 += 0.00000000426 * Math.cos(2.86953666046 + 11614.6771112157 * t);
-        X1 += 0.00000000384 * Math.cos(5.80577939753 + 6685.3500062411 * t);
-        X1 += 0.00000000407 * Math.cos(3.46091021814 + 4569.8183575055 * t);
-        X1 += 0.00000000495 * Math.cos(4.23130410948 + 13119.47728534169 * t);
-        X1 += 0.00000000366 * Math.cos(2.89115269594 + 263.3277408563 * t);
-        X1 += 0.00000000370 * Math.cos(1.36093537897 + 3274.36883526891 * t);
-        X1 += 0.00000000359 * Math.cos(4.24198911604 + 5614.48555872609 * t);
-        X1 += 0.00000000358 * Math.cos(4.30213026610 + 7910.4307842053 * t);
-        X1 += 0.00000000360 * Math.cos(1.62131716357 + 3407.3436530977 * t);
-        X1 += 0.00000000402 * Math.cos(5.43912274152 + 7895.7160552367 * t);
-        X1 += 0.00000000453 * Math.cos(2.09910428652 + 3113.3801113943 * t);
-        X1 += 0.00000000394 * Math.cos(6.09769421438 + 9588.3693597061 * t);
-        X1 += 0.00000000341 * Math.cos(4.58419197314 + 15.49628866851 * t);
-        X1 += 0.00000000341 * Math.cos(4.67783034753 + 2384.0794532457 * t);
-        X1 += 0.00000000358 * Math.cos(1.27303671253 + 20.11150191529 * t);
-        X1 += 0.00000000352 * Math.cos(5.65764885671 + 12721.32828193349 * t);
-        X1 += 0.00000000422 * Math.cos(2.19333082001 + 19514.2274125877 * t);
-        X1 += 0.00000000463 * Math.cos(2.10905707905 + 3870.0595743109 * t);
-        X1 += 0.00000000334 * Math.cos(4.35518721630 + 10595.9382609507 * t);
-        X1 += 0.00000000333 * Math.cos(1.29837025236 + 5725.1795149125 * t);
-        X1 += 0.00000000342 * Math.cos(5.18889491099 + 9380.71585523369 * t);
-        X1 += 0.00000000373 * Math.cos(6.01149621113 + 10021.1007765147 * t);
-        X1 += 0.00000000380 * Math.cos(5.03329108256 + 7909.94314923829 * t);
-        X1 += 0.00000000375 * Math.cos(4.47589680364 + 11611.1539928667 * t);
-        X1 += 0.00000000335 * Math.cos(4.55687373480 + 2939.1841224261 * t);
-        X1 += 0.00000000340 * Math.cos(3.64506451118 + 7321.36595719711 * t);
-        X1 += 0.00000000374 * Math.cos(4.03375047167 + 3415.63784275061 * t);
-        X1 += 0.00000000330 * Math.cos(1.88368883608 + 6677.4579175671 * t);
-        X1 += 0.00000000412 * Math.cos(0.88251814469 + 3568.3323769723 * t);
-        X1 += 0.00000000310 * Math.cos(4.70847967924 + 14422.0754544719 * t);
-        X1 += 0.00000000318 * Math.cos(4.69941081301 + 16460.08971204149 * t);
-        X1 += 0.00000000338 * Math.cos(5.91131346510 + 10177.5014970171 * t);
-        X1 += 0.00000000330 * Math.cos(0.91597037671 + 3362.70707350971 * t);
-        X1 += 0.00000000330 * Math.cos(2.06620388834 + 3319.0054148569 * t);
-        X1 += 0.00000000348 * Math.cos(5.61730962300 + 9602.5964537077 * t);
-        X1 += 0.00000000329 * Math.cos(4.94303630669 + 10042.8564930753 * t);
-        X1 += 0.00000000312 * Math.cos(5.55211289042 + 323.74923414091 * t);
-        X1 += 0.00000000340 * Math.cos(4.78508277647 + 22325.1488741929 * t);
-        X1 += 0.00000000403 * Math.cos(4.77937379248 + 6040.10342853389 * t);
-        X1 += 0.00000000390 * Math.cos(2.10755320496 + 6717.49653756051 * t);
-        X1 += 0.00000000324 * Math.cos(3.81410761918 + 14584.5420906041 * t);
-        X1 += 0.00000000298 * Math.cos(0.56258586387 + 3417.1223154589 * t);
-        X1 += 0.00000000291 * Math.cos(1.54713222563 + 6645.4408042057 * t);
-        X1 += 0.00000000293 * Math.cos(3.68939166735 + 2676.10019905331 * t);
-        X1 += 0.00000000332 * Math.cos(6.23779631324 + 4459.61203628611 * t);
-        X1 += 0.00000000279 * Math.cos(3.08511995000 + 5732.2930619133 * t);
-        X1 += 0.00000000304 * Math.cos(3.91894030488 + 7204.04608897691 * t);
-        X1 += 0.00000000280 * Math.cos(1.35602318924 + 3283.9578692477 * t);
-        X1 += 0.00000000280 * Math.cos(1.62615107581 + 3397.7546191189 * t);
-        X1 += 0.00000000283 * Math.cos(4.01285717255 + 262.84010588929 * t);
-        X1 += 0.00000000325 * Math.cos(5.23850564888 + 3266.074645616 * t);
-        X1 += 0.00000000280 * Math.cos(3.40896567674 + 6688.51490758111 * t);
-        X1 += 0.00000000284 * Math.cos(0.30082021041 + 5244.2930566845 * t);
-        X1 += 0.00000000363 * Math.cos(2.79281358783 + 10001.3057020905 * t);
-        X1 += 0.00000000267 * Math.cos(0.02468832444 + 7255.8134692179 * t);
-        X1 += 0.00000000348 * Math.cos(1.35684937218 + 1990.5011995575 * t);
-        X1 += 0.00000000329 * Math.cos(5.60955627373 + 162.2228186487 * t);
-        X1 += 0.00000000356 * Math.cos(3.23261573293 + 1162.7185218913 * t);
-        X1 += 0.00000000345 * Math.cos(3.39135824465 + 426.3543733925 * t);
-        X1 += 0.00000000312 * Math.cos(4.00206322359 + 7255.3258342509 * t);
-        X1 += 0.00000000260 * Math.cos(3.24406180206 + 11766.5070819981 * t);
-        X1 += 0.00000000312 * Math.cos(3.70486580950 + 3914.71340755109 * t);
-        X1 += 0.00000000261 * Math.cos(4.36606169264 + 1588.82907780029 * t);
-        X1 += 0.00000000260 * Math.cos(3.19061283477 + 11769.6098756829 * t);
-        X1 += 0.00000000259 * Math.cos(3.13096549005 + 5033.0219136857 * t);
-        X1 += 0.00000000257 * Math.cos(4.58563664538 + 205.9417309537 * t);
-        X1 += 0.00000000253 * Math.cos(1.68968336145 + 17101.4549543907 * t);
-        X1 += 0.00000000253 * Math.cos(3.52319644222 + 16703.28869733031 * t);
-        X1 += 0.00000000253 * Math.cos(1.08133024526 + 6948.0757126049 * t);
-        X1 += 0.00000000278 * Math.cos(6.24540446055 + 7322.34627826531 * t);
-        X1 += 0.00000000255 * Math.cos(3.63050380615 + 11780.7341759997 * t);
-        X1 += 0.00000000282 * Math.cos(1.66208146566 + 860.55374623631 * t);
-        X1 += 0.00000000253 * Math.cos(5.55396848472 + 16703.3232046347 * t);
-        X1 += 0.00000000256 * Math.cos(4.75382802148 + 13936.5506876505 * t);
-        X1 += 0.00000000240 * Math.cos(2.67113783155 + 2274.3607669933 * t);
-        X1 += 0.00000000246 * Math.cos(0.25187790496 + 3377.4616094875 * t);
-        X1 += 0.00000000246 * Math.cos(2.73029636009 + 3304.25087887911 * t);
-        X1 += 0.00000000270 * Math.cos(5.07892919701 + 1222.09238380491 * t);
-        X1 += 0.00000000243 * Math.cos(3.58179875490 + 16276.7077601065 * t);
-        X1 += 0.00000000253 * Math.cos(2.03967667378 + 14314.4119305333 * t);
-        X1 += 0.00000000225 * Math.cos(3.64551843619 + 10018.4906689311 * t);
-        X1 += 0.00000000227 * Math.cos(3.05024629694 + 5305.6948710373 * t);
-        X1 += 0.00000000284 * Math.cos(2.13762517288 + 10157.14617761831 * t);
-        X1 += 0.00000000244 * Math.cos(1.34723380846 + 2074.8011305899 * t);
-        X1 += 0.00000000243 * Math.cos(1.17853314043 + 30065.7556577817 * t);
-        X1 += 0.00000000218 * Math.cos(3.34943504189 + 3030.01544531491 * t);
-        X1 += 0.00000000220 * Math.cos(3.22940204842 + 16858.23871544969 * t);
-        X1 += 0.00000000221 * Math.cos(5.57676911186 + 4005.61228931331 * t);
-        X1 += 0.00000000213 * Math.cos(6.12180241864 + 533.45790092711 * t);
-        X1 += 0.00000000224 * Math.cos(4.07746567192 + 10025.6715262347 * t);
-        X1 += 0.00000000216 * Math.cos(5.71759573965 + 10037.33356876791 * t);
-        X1 += 0.00000000213 * Math.cos(5.27835525808 + 10448.6792884589 * t);
-        X1 += 0.00000000219 * Math.cos(4.37173752188 + 23.63462026429 * t);
-        X1 += 0.00000000218 * Math.cos(6.18590261959 + 5641.9544251257 * t);
-        X1 += 0.00000000211 * Math.cos(3.90230684295 + 6944.5525942559 * t);
-        X1 += 0.00000000215 * Math.cos(4.18957088171 + 3212.83740084591 * t);
-        X1 += 0.00000000234 * Math.cos(0.76565690804 + 3185.5031550519 * t);
-        X1 += 0.00000000212 * Math.cos(1.32558805223 + 3553.66770465429 * t);
-        X1 += 0.00000000270 * Math.cos(6.14786843780 + 16061.94070863329 * t);
-        X1 += 0.00000000214 * Math.cos(6.25312379495 + 1545.1101654953 * t);
-        X1 += 0.00000000213 * Math.cos(2.95953405061 + 17925.1545173039 * t);
-        X1 += 0.00000000206 * Math.cos(1.17842868532 + 15663.79170522509 * t);
-        X1 += 0.00000000201 * Math.cos(1.28322953170 + 1835.56843509031 * t);
-        X1 += 0.00000000211 * Math.cos(5.31180316254 + 3230.64992296391 * t);
-        X1 += 0.00000000198 * Math.cos(0.22514658211 + 6578.3758966645 * t);
-        X1 += 0.00000000204 * Math.cos(0.75052474665 + 12323.17927852529 * t);
-        X1 += 0.00000000204 * Math.cos(5.07567496442 + 3468.8750875207 * t);
-        X1 += 0.00000000213 * Math.cos(0.67647172011 + 7747.96414807311 * t);
-        X1 += 0.00000000197 * Math.cos(4.08128556688 + 3340.9235544861 * t);
-        X1 += 0.00000000221 * Math.cos(2.21670811630 + 3496.20933331471 * t);
-        X1 += 0.00000000193 * Math.cos(5.91467798973 + 3651.6970430517 * t);
-        X1 += 0.00000000191 * Math.cos(0.58881365615 + 14712.5609339415 * t);
-        X1 += 0.00000000242 * Math.cos(3.82869102683 + 6622.0948089695 * t);
-        X1 += 0.00000000191 * Math.cos(5.23241625121 + 2480.0586804635 * t);
-        X1 += 0.00000000188 * Math.cos(2.57440320373 + 103.3365917021 * t);
-        X1 += 0.00000000190 * Math.cos(1.14046863706 + 15508.8589407579 * t);
-        X1 += 0.00000000182 * Math.cos(5.56209368259 + 8543.2145235185 * t);
-        X1 += 0.00000000233 * Math.cos(3.46250833088 + 13916.2629271251 * t);
-        X1 += 0.00000000200 * Math.cos(4.07950076032 + 6677.5873355251 * t);
-        X1 += 0.00000000249 * Math.cos(1.64032039460 + 699.02733074409 * t);
-        X1 += 0.00000000237 * Math.cos(1.54894672444 + 7373.13863714289 * t);
-        X1 += 0.00000000202 * Math.cos(1.48932512281 + 12012.8261146239 * t);
-        X1 += 0.00000000205 * Math.cos(1.56629832109 + 2946.2303591241 * t);
-        X1 += 0.00000000230 * Math.cos(0.87749290251 + 1903.19299501769 * t);
-        X1 += 0.00000000239 * Math.cos(0.56550721465 + 6107.1238725483 * t);
-        X1 += 0.00000000200 * Math.cos(2.99049384035 + 10001.72577818411 * t);
-        X1 += 0.00000000174 * Math.cos(0.03064105150 + 6457.1238751812 * t);
-        X1 += 0.00000000188 * Math.cos(6.17205698509 + 2388.6502029657 * t);
-        X1 += 0.00000000171 * Math.cos(4.43743888209 + 6756.2502694504 * t);
-        X1 += 0.00000000174 * Math.cos(3.24256094891 + 6418.38474751031 * t);
-        X1 += 0.00000000182 * Math.cos(1.09751490284 + 6887.6542193203 * t);
-        X1 += 0.00000000172 * Math.cos(0.31527807188 + 19402.55313533309 * t);
-        X1 += 0.00000000169 * Math.cos(1.34967221969 + 522.3336006103 * t);
-        X1 += 0.00000000176 * Math.cos(4.11592405892 + 7896.20369020371 * t);
-        X1 += 0.00000000169 * Math.cos(1.19861060296 + 5618.5636223449 * t);
-        X1 += 0.00000000168 * Math.cos(1.47006471713 + 13575.9926197207 * t);
-        X1 += 0.00000000184 * Math.cos(3.93805925267 + 7218.2731829785 * t);
-        X1 += 0.00000000166 * Math.cos(3.82808880048 + 15651.03756779411 * t);
-        X1 += 0.00000000212 * Math.cos(4.80268839794 + 13363.67384535091 * t);
-        X1 += 0.00000000169 * Math.cos(0.37705302403 + 2655.8121899573 * t);
-        X1 += 0.00000000194 * Math.cos(2.09860374727 + 9491.90249752129 * t);
-        X1 += 0.00000000168 * Math.cos(1.37306425270 + 7314.2524101963 * t);
-        X1 += 0.00000000177 * Math.cos(4.60890307799 + 3341.3489302845 * t);
-        X1 += 0.00000000160 * Math.cos(6.16917404327 + 1903.6806299847 * t);
-        X1 += 0.00000000159 * Math.cos(2.63543785839 + 2008.8013566425 * t);
-        X1 += 0.00000000177 * Math.cos(5.21096301825 + 6686.9915951905 * t);
-        X1 += 0.00000000210 * Math.cos(3.08946859688 + 4032.52621044309 * t);
-        X1 += 0.00000000192 * Math.cos(3.27966303360 + 2751.79141717511 * t);
-        X1 += 0.00000000153 * Math.cos(4.89714620461 + 2803.56409712089 * t);
-        X1 += 0.00000000153 * Math.cos(4.40731948478 + 3334.1725803092 * t);
-        X1 += 0.00000000153 * Math.cos(4.85804008745 + 3347.53990805741 * t);
-        X1 += 0.00000000152 * Math.cos(3.30181617069 + 5486.53402569149 * t);
-        X1 += 0.00000000154 * Math.cos(1.98358917407 + 3499.7997619665 * t);
-        X1 += 0.00000000151 * Math.cos(5.12277493842 + 14054.36349054249 * t);
-        X1 += 0.00000000169 * Math.cos(1.72774686313 + 19645.7693742741 * t);
-        X1 += 0.00000000197 * Math.cos(4.49011102737 + 3340.78893388051 * t);
-        X1 += 0.00000000195 * Math.cos(0.42823378367 + 6546.4035908477 * t);
-        X1 += 0.00000000185 * Math.cos(2.81424337458 + 1331.8110700573 * t);
-        X1 += 0.00000000148 * Math.cos(5.02521612753 + 14712.07329897449 * t);
-        X1 += 0.00000000196 * Math.cos(0.33560277948 + 8982.5668518255 * t);
-        X1 += 0.00000000158 * Math.cos(4.60992813529 + 14557.1405345073 * t);
-        X1 += 0.00000000171 * Math.cos(4.49539596939 + 1063.14886602171 * t);
-        X1 += 0.00000000140 * Math.cos(4.74314220170 + 2786.7992063739 * t);
-        X1 += 0.00000000149 * Math.cos(5.05608716763 + 13518.1139237169 * t);
-        X1 += 0.00000000150 * Math.cos(1.03888799126 + 736.1203310153 * t);
-        X1 += 0.00000000140 * Math.cos(0.63946494957 + 4039.6397574439 * t);
-        X1 += 0.00000000148 * Math.cos(3.00259617784 + 3053.89388306271 * t);
-        X1 += 0.00000000141 * Math.cos(5.70073619213 + 7380.2521841437 * t);
-        X1 += 0.00000000187 * Math.cos(4.37697824709 + 2409.4931573315 * t);
-        X1 += 0.00000000140 * Math.cos(0.90450305556 + 6692.10533623291 * t);
-        X1 += 0.00000000171 * Math.cos(3.32683055485 + 14.47091148511 * t);
-        X1 += 0.00000000135 * Math.cos(5.16323033758 + 4076.7327577151 * t);
-        X1 += 0.00000000135 * Math.cos(4.10212923465 + 2604.9797306515 * t);
-        X1 += 0.00000000134 * Math.cos(5.28028126267 + 13554.1417903943 * t);
-        X1 += 0.00000000133 * Math.cos(2.22525164413 + 3191.29304704871 * t);
-        X1 += 0.00000000177 * Math.cos(4.97584254328 + 2277.4635606781 * t);
-        X1 += 0.00000000177 * Math.cos(1.67473064239 + 8959.1760490447 * t);
-        X1 += 0.00000000135 * Math.cos(5.19738274919 + 3347.4821562171 * t);
-        X1 += 0.00000000178 * Math.cos(1.87756312184 + 2284.5097973761 * t);
-        X1 += 0.00000000175 * Math.cos(4.86177792832 + 8966.2222857427 * t);
-        X1 += 0.00000000131 * Math.cos(0.83104395212 + 9375.0702642681 * t);
-        X1 += 0.00000000160 * Math.cos(4.45288273211 + 2494.28577446509 * t);
-        X1 += 0.00000000129 * Math.cos(5.46603984965 + 6680.99828956829 * t);
-        X1 += 0.00000000152 * Math.cos(1.54903747444 + 12722.7962379687 * t);
-        X1 += 0.00000000138 * Math.cos(1.47418494330 + 20047.4414960313 * t);
-        X1 += 0.00000000171 * Math.cos(0.83416282874 + 75.0254160508 * t);
-        X1 += 0.00000000129 * Math.cos(1.71104572673 + 4846.1440532763 * t);
-        X1 += 0.00000000134 * Math.cos(2.62552732791 + 4025.9002984093 * t);
-        X1 += 0.00000000129 * Math.cos(4.40753732369 + 11670.5278547803 * t);
-        X1 += 0.00000000129 * Math.cos(3.43526215532 + 6680.9637822639 * t);
-        X1 += 0.00000000157 * Math.cos(0.45500626871 + 9389.2973582697 * t);
-        X1 += 0.00000000126 * Math.cos(4.78407774469 + 6148.2545874395 * t);
-        X1 += 0.00000000176 * Math.cos(0.06847011749 + 21.0192129759 * t);
-        X1 += 0.00000000169 * Math.cos(1.68451776572 + 19004.4041319249 * t);
-        X1 += 0.00000000155 * Math.cos(5.99614758178 + 3929.9210711915 * t);
-        X1 += 0.00000000150 * Math.cos(4.51700078093 + 3077.77232081051 * t);
-        X1 += 0.00000000133 * Math.cos(1.12151471008 + 12840.1161061889 * t);
-        X1 += 0.00000000137 * Math.cos(5.81509659853 + 6674.4224341851 * t);
-        X1 += 0.00000000129 * Math.cos(3.00992741103 + 18606.25512851669 * t);
-        X1 += 0.00000000146 * Math.cos(0.88857962035 + 3284.0529820135 * t);
-        X1 += 0.00000000146 * Math.cos(2.09359464470 + 3397.6595063531 * t);
-        X1 += 0.00000000130 * Math.cos(2.27123580336 + 1505.04399160949 * t);
-        X1 += 0.00000000133 * Math.cos(6.26353175980 + 3627.8186053039 * t);
-        X1 += 0.00000000125 * Math.cos(2.00888455156 + 4672.42349675709 * t);
-        X1 += 0.00000000124 * Math.cos(1.40431448992 + 6594.1604663433 * t);
-        X1 += 0.00000000135 * Math.cos(0.17263957625 + 7902.8296022375 * t);
-        X1 += 0.00000000147 * Math.cos(2.02223322465 + 536.5606946119 * t);
-        X1 += 0.00000000123 * Math.cos(1.97449162762 + 1486.2239385487 * t);
-        X1 += 0.00000000125 * Math.cos(2.58633115739 + 15265.64270181689 * t);
-        X1 += 0.00000000121 * Math.cos(4.43373574929 + 4534.81561944089 * t);
-        X1 += 0.00000000134 * Math.cos(0.01049298570 + 2288.58786099491 * t);
-        X1 += 0.00000000119 * Math.cos(1.42038025370 + 74.53778108379 * t);
-        X1 += 0.00000000146 * Math.cos(4.33987734620 + 1479.11039154791 * t);
-        X1 += 0.00000000117 * Math.cos(3.63700868579 + 3344.36210888011 * t);
-        X1 += 0.00000000117 * Math.cos(2.48675823285 + 3337.3503794865 * t);
-        X1 += 0.00000000147 * Math.cos(2.64686332853 + 6510.7958002639 * t);
-        X1 += 0.00000000118 * Math.cos(2.66713380790 + 3531.81687532789 * t);
-        X1 += 0.00000000160 * Math.cos(3.48000571787 + 3451.0625654027 * t);
-        X1 += 0.00000000117 * Math.cos(0.45598660135 + 3337.31587218211 * t);
-        X1 += 0.00000000117 * Math.cos(5.66778031729 + 3344.3966161845 * t);
-        X1 += 0.00000000118 * Math.cos(5.77425794908 + 9887.0160175475 * t);
-        X1 += 0.00000000119 * Math.cos(2.86055893849 + 15907.0079441661 * t);
-        X1 += 0.00000000154 * Math.cos(2.03788737462 + 3134.1555068867 * t);
-        X1 += 0.00000000118 * Math.cos(2.90358676347 + 3363.62474079271 * t);
-        X1 += 0.00000000118 * Math.cos(0.07858750158 + 3318.08774757391 * t);
-        X1 += 0.00000000117 * Math.cos(2.63259162370 + 3184.4555236809 * t);
-        X1 += 0.00000000117 * Math.cos(0.34958264135 + 3497.2569646857 * t);
-        X1 += 0.00000000115 * Math.cos(3.42928363203 + 6725.18758318811 * t);
-        X1 += 0.00000000116 * Math.cos(1.31026929252 + 5243.80542171749 * t);
-        X1 += 0.00000000124 * Math.cos(4.75071984619 + 2631.86644190671 * t);
-        X1 += 0.00000000135 * Math.cos(4.74864603951 + 3603.9401675561 * t);
-        X1 += 0.00000000112 * Math.cos(1.39378918277 + 9065.7919416123 * t);
-        X1 += 0.00000000152 * Math.cos(3.41529704725 + 1.22413855171 * t);
-        X1 += 0.00000000127 * Math.cos(5.86796114412 + 7366.02509014209 * t);
-        X1 += 0.00000000119 * Math.cos(0.46273681956 + 16511.8576848709 * t);
-        X1 += 0.00000000113 * Math.cos(4.31237181889 + 13745.5900565059 * t);
-        X1 += 0.00000000155 * Math.cos(2.36789782817 + 6155.3008241375 * t);
-        X1 += 0.00000000115 * Math.cos(4.80039490722 + 6997.8605405397 * t);
-        X1 += 0.00000000114 * Math.cos(4.71044015292 + 632.5399218297 * t);
-        X1 += 0.00000000111 * Math.cos(1.50115320372 + 87.55202202331 * t);
-        X1 += 0.00000000114 * Math.cos(3.09765449003 + 3987.86707749811 * t);
-        X1 += 0.00000000125 * Math.cos(1.31378413061 + 5821.1587421303 * t);
-        X1 += 0.00000000138 * Math.cos(6.15830900546 + 2233.71743849851 * t);
-        X1 += 0.00000000149 * Math.cos(4.65381217458 + 7373.62627210991 * t);
-        X1 += 0.00000000131 * Math.cos(0.53786654009 + 6901.8813133219 * t);
-        X1 += 0.00000000107 * Math.cos(4.29058441705 + 2973.63191522091 * t);
-        X1 += 0.00000000107 * Math.cos(0.28658465594 + 4672.91113172411 * t);
-        X1 += 0.00000000145 * Math.cos(1.00064082557 + 2060.5740365883 * t);
-        X1 += 0.00000000111 * Math.cos(3.72631581546 + 6357.9632542257 * t);
-        X1 += 0.00000000112 * Math.cos(3.97073393136 + 2575.0631797369 * t);
-        X1 += 0.00000000139 * Math.cos(0.94733057212 + 3547.5569814799 * t);
-        X1 += 0.00000000122 * Math.cos(4.41872868475 + 3346.71344648291 * t);
-        X1 += 0.00000000122 * Math.cos(4.84663088748 + 3334.99904188371 * t);
-        X1 += 0.00000000114 * Math.cos(4.59065890561 + 931.60690433531 * t);
-        X1 += 0.00000000112 * Math.cos(1.44715487405 + 7079.1300393243 * t);
-        X1 += 0.00000000108 * Math.cos(1.73727679166 + 8584.41784841729 * t);
-        X1 += 0.00000000141 * Math.cos(4.45396803446 + 2907.1445063065 * t);
-        X1 += 0.00000000139 * Math.cos(6.03004639149 + 5518.9939664753 * t);
-        X1 += 0.00000000115 * Math.cos(4.56654646438 + 4399.7505394055 * t);
-        X1 += 0.00000000103 * Math.cos(0.56675408892 + 2487.6598624313 * t);
-        X1 += 0.00000000140 * Math.cos(6.09857806608 + 6670.8320055333 * t);
-        X1 += 0.00000000105 * Math.cos(3.60113930342 + 2957.4720769931 * t);
-        X1 += 0.00000000102 * Math.cos(1.89951054497 + 316.14805217309 * t);
-        X1 += 0.00000000100 * Math.cos(2.58249576503 + 17918.0409703031 * t);
-        X1 += 0.00000000120 * Math.cos(0.00199458528 + 3311.3644258799 * t);
-        X1 += 0.00000000120 * Math.cos(2.98017967977 + 3370.34806248671 * t);
-        X1 += 0.00000000118 * Math.cos(2.40172384456 + 6606.6870723158 * t);
-        X1 += 0.00000000098 * Math.cos(1.31051304917 + 17468.6113804619 * t);
-        X1 += 0.00000000097 * Math.cos(5.18663624065 + 8859.60639317511 * t);
-        X1 += 0.00000000107 * Math.cos(0.39903321622 + 2391.1930002465 * t);
-        X1 += 0.00000000132 * Math.cos(5.74613926898 + 3050.3707647137 * t);
-        X1 += 0.00000000106 * Math.cos(5.77391871927 + 2641.5850959557 * t);
-        X1 += 0.00000000097 * Math.cos(2.15228847060 + 22345.0165586247 * t);
-        X1 += 0.00000000101 * Math.cos(3.76810604314 + 10125.1738718015 * t);
-        X1 += 0.00000000104 * Math.cos(1.92314989559 + 4297.14540015391 * t);
-        X1 += 0.00000000096 * Math.cos(0.92848572409 + 2679.62331740231 * t);
-        X1 += 0.00000000111 * Math.cos(1.28913302911 + 10042.4364169817 * t);
-        X1 += 0.00000000110 * Math.cos(4.68759919971 + 2913.7704183403 * t);
-        X1 += 0.00000000096 * Math.cos(4.84024975949 + 10006.8286263979 * t);
-        X1 += 0.00000000112 * Math.cos(3.79531321228 + 11251.04321090511 * t);
-        X1 += 0.00000000096 * Math.cos(0.08944555474 + 59.13004443009 * t);
-        X1 += 0.00000000108 * Math.cos(1.41251308034 + 3735.48212924251 * t);
-        X1 += 0.00000000092 * Math.cos(4.97016796965 + 3708.0805731457 * t);
-        X1 += 0.00000000097 * Math.cos(3.70144815543 + 2922.35192137631 * t);
-        X1 += 0.00000000127 * Math.cos(4.88627440223 + 4272.21933103511 * t);
-        X1 += 0.00000000117 * Math.cos(5.31775060658 + 12168.2465140581 * t);
-        X1 += 0.00000000116 * Math.cos(1.49729294895 + 10213.5293636945 * t);
-        X1 += 0.00000000115 * Math.cos(3.52057619150 + 9815.8955491457 * t);
-        X1 += 0.00000000093 * Math.cos(3.71897405268 + 2772.0343701559 * t);
-        X1 += 0.00000000104 * Math.cos(2.14819026672 + 6033.9702026013 * t);
-        X1 += 0.00000000091 * Math.cos(2.04346250814 + 169.3363656495 * t);
-        X1 += 0.00000000090 * Math.cos(6.01161563012 + 2541.03511901791 * t);
-        X1 += 0.00000000100 * Math.cos(1.66100640202 + 26887.6098672141 * t);
-        X1 += 0.00000000096 * Math.cos(0.19390309418 + 640.6337898987 * t);
-        X1 += 0.00000000090 * Math.cos(2.85101513299 + 846.3266522347 * t);
-        X1 += 0.00000000089 * Math.cos(1.82000345485 + 2817.7911911225 * t);
-        X1 += 0.00000000115 * Math.cos(2.32563511814 + 1648.2029397139 * t);
-        X1 += 0.00000000096 * Math.cos(4.51369552987 + 4049.8460464599 * t);
-        X1 += 0.00000000113 * Math.cos(0.21883056920 + 4922.8155924663 * t);
-        X1 += 0.00000000087 * Math.cos(5.73909456316 + 1118.5119746193 * t);
-        X1 += 0.00000000094 * Math.cos(4.82163973372 + 1272.9248431107 * t);
-        X1 += 0.00000000110 * Math.cos(4.05120684954 + 21795.4579090983 * t);
-        X1 += 0.00000000103 * Math.cos(4.54724340391 + 12302.8239591265 * t);
-        X1 += 0.00000000088 * Math.cos(0.58289504579 + 17654.5367222661 * t);
-        X1 += 0.00000000119 * Math.cos(3.51883656664 + 3631.3417236529 * t);
-        X1 += 0.00000000094 * Math.cos(4.87154048069 + 10706.63751684189 * t);
-        X1 += 0.00000000090 * Math.cos(5.20227178872 + 19800.7021387413 * t);
-        X1 += 0.00000000117 * Math.cos(6.22319339964 + 1905.70858242391 * t);
-        X1 += 0.00000000098 * Math.cos(2.27543509085 + 6768.77687542291 * t);
-        X1 += 0.00000000084 * Math.cos(0.40663774606 + 3152.93109642071 * t);
-        X1 += 0.00000000084 * Math.cos(5.71712518213 + 3528.7813919459 * t);
-        X1 += 0.00000000088 * Math.cos(2.48359504580 + 36.84918278771 * t);
-        X1 += 0.00000000112 * Math.cos(2.17506174010 + 11925.03027511709 * t);
-        X1 += 0.00000000093 * Math.cos(2.83649458406 + 2538.4923217371 * t);
-        X1 += 0.00000000091 * Math.cos(4.87521452246 + 10714.23869880971 * t);
-        X1 += 0.00000000094 * Math.cos(1.69069857507 + 6048.1972966029 * t);
-        X1 += 0.00000000110 * Math.cos(3.42458146112 + 21946.86755521649 * t);
-        X1 += 0.00000000085 * Math.cos(1.40842506800 + 16490.0068555445 * t);
-        X1 += 0.00000000097 * Math.cos(0.03832228360 + 2170.7803578077 * t);
-        X1 += 0.00000000094 * Math.cos(6.04928950566 + 12943.2088804075 * t);
-        X1 += 0.00000000088 * Math.cos(3.52169323662 + 4040.12739241091 * t);
-        X1 += 0.00000000107 * Math.cos(1.79263478591 + 6286.84278582391 * t);
-        X1 += 0.00000000082 * Math.cos(4.84136227056 + 21548.7185518083 * t);
-        X1 += 0.00000000081 * Math.cos(0.90487003246 + 3355.0833381849 * t);
-        X1 += 0.00000000081 * Math.cos(2.07730423259 + 3326.62915018171 * t);
-        X1 += 0.00000000085 * Math.cos(5.29390218197 + 4106.6493086297 * t);
-        X1 += 0.00000000082 * Math.cos(4.45108278321 + 18208.1061251085 * t);
-        X1 += 0.00000000101 * Math.cos(3.27831724076 + 5628.7126527277 * t);
-        X1 += 0.00000000079 * Math.cos(3.08021794234 + 4778.03185838191 * t);
-        X1 += 0.00000000083 * Math.cos(5.56389512532 + 3759.3605669903 * t);
-        X1 += 0.00000000081 * Math.cos(5.24671474039 + 1442.0173912767 * t);
-        X1 += 0.00000000079 * Math.cos(4.99629515155 + 3302.7232085455 * t);
-        X1 += 0.00000000079 * Math.cos(4.26906442068 + 3378.98927982111 * t);
-        X1 += 0.00000000109 * Math.cos(5.82044508542 + 765.54924696289 * t);
-        X1 += 0.00000000079 * Math.cos(2.75167670672 + 9947.2994990156 * t);
-        X1 += 0.00000000087 * Math.cos(0.74054571271 + 3181.91272640011 * t);
-        X1 += 0.00000000092 * Math.cos(1.81679365007 + 684.8002367425 * t);
-        X1 += 0.00000000078 * Math.cos(0.54443036545 + 4025.4126634423 * t);
-        X1 += 0.00000000106 * Math.cos(0.39437492385 + 7214.68275432671 * t);
-        X1 += 0.00000000079 * Math.cos(3.24883118288 + 5562.7128787803 * t);
-        X1 += 0.00000000094 * Math.cos(3.86479398938 + 1655.3164867147 * t);
-        X1 += 0.00000000077 * Math.cos(4.37397781320 + 42942.7481566329 * t);
-        X1 += 0.00000000096 * Math.cos(3.10433237844 + 4447.9950498681 * t);
-        X1 += 0.00000000079 * Math.cos(0.57783819707 + 1169.83206889211 * t);
-        X1 += 0.00000000077 * Math.cos(2.05082432743 + 4002.0891709643 * t);
-        X1 += 0.00000000075 * Math.cos(1.45657411241 + 4988.8153664137 * t);
-        X1 += 0.00000000103 * Math.cos(4.88591124475 + 6279.7965491259 * t);
-        X1 += 0.00000000075 * Math.cos(2.93994155162 + 6710.8981794191 * t);
-        X1 += 0.00000000100 * Math.cos(2.80459580595 + 6654.0671147863 * t);
-        X1 += 0.00000000075 * Math.cos(3.69701859291 + 1106.89498820129 * t);
-        X1 += 0.00000000085 * Math.cos(4.64963704633 + 3031.5779215275 * t);
-        X1 += 0.00000000085 * Math.cos(4.61572252590 + 3650.1345668391 * t);
-        X1 += 0.00000000102 * Math.cos(4.01749947544 + 220.16882495529 * t);
-        X1 += 0.00000000077 * Math.cos(5.54308532188 + 3909.6781182107 * t);
-        X1 += 0.00000000080 * Math.cos(2.35937385984 + 42153.72518556549 * t);
-        X1 += 0.00000000090 * Math.cos(5.20545196866 + 2277.95119564511 * t);
-        X1 += 0.00000000074 * Math.cos(4.85392128576 + 10184.5477337151 * t);
-        X1 += 0.00000000102 * Math.cos(4.85789296676 + 3282.9775481795 * t);
-        X1 += 0.00000000102 * Math.cos(4.40746660547 + 3398.73494018711 * t);
-        X1 += 0.00000000077 * Math.cos(0.97150754740 + 20199.2714668137 * t);
-        X1 += 0.00000000073 * Math.cos(5.35302732038 + 13369.8070712835 * t);
-        X1 += 0.00000000097 * Math.cos(1.78236800999 + 6784.5614451017 * t);
-        X1 += 0.00000000092 * Math.cos(2.49268078499 + 3492.7535252685 * t);
-        X1 += 0.00000000076 * Math.cos(2.72604775599 + 19404.0210913683 * t);
-        X1 += 0.00000000073 * Math.cos(2.28914210106 + 6365.0768012265 * t);
-        X1 += 0.00000000080 * Math.cos(4.31946976428 + 8756.5136189565 * t);
-        X1 += 0.00000000077 * Math.cos(2.43358799510 + 6549.9267091967 * t);
-        X1 += 0.00000000072 * Math.cos(1.60251649866 + 2067.68758358909 * t);
-        X1 += 0.00000000073 * Math.cos(1.66952560844 + 20809.2238071617 * t);
-        X1 += 0.00000000073 * Math.cos(2.18603588252 + 8955.09798542589 * t);
-        X1 += 0.00000000088 * Math.cos(6.05370075400 + 11883.8269502183 * t);
-        X1 += 0.00000000070 * Math.cos(0.54574968829 + 6254.38284504009 * t);
-        X1 += 0.00000000093 * Math.cos(3.37029033662 + 10050.5302850507 * t);
-        X1 += 0.00000000074 * Math.cos(5.10982595496 + 12725.20961729149 * t);
-        X1 += 0.00000000069 * Math.cos(6.03979719075 + 1280.0383901115 * t);
-        X1 += 0.00000000090 * Math.cos(6.03814884327 + 10713.75106384269 * t);
-        X1 += 0.00000000082 * Math.cos(5.40449104981 + 5401.18646328809 * t);
-        X1 += 0.00000000072 * Math.cos(2.91500867928 + 18451.3223640495 * t);
-        X1 += 0.00000000077 * Math.cos(0.47267389836 + 5466.7336515625 * t);
-        X1 += 0.00000000079 * Math.cos(1.60573790161 + 3351.9019444472 * t);
-        X1 += 0.00000000079 * Math.cos(1.37643636344 + 3329.8105439194 * t);
-        X1 += 0.00000000077 * Math.cos(4.93901006797 + 15636.8104737925 * t);
-        X1 += 0.00000000070 * Math.cos(5.75932631153 + 2011.3441539233 * t);
-        X1 += 0.00000000068 * Math.cos(3.77776938096 + 9381.2034902007 * t);
-        X1 += 0.00000000074 * Math.cos(4.22015140549 + 25136.0703357981 * t);
-        X1 += 0.00000000068 * Math.cos(0.23736554031 + 6489.53276980449 * t);
-        X1 += 0.00000000078 * Math.cos(1.87967755594 + 3583.0972131903 * t);
-        X1 += 0.00000000069 * Math.cos(5.04882196655 + 11354.1359851237 * t);
-        X1 += 0.00000000070 * Math.cos(3.84126763579 + 25287.47998191629 * t);
-        X1 += 0.00000000070 * Math.cos(3.95696412828 + 35707.4662654239 * t);
-        X1 += 0.00000000088 * Math.cos(3.09948179111 + 3068.1832868317 * t);
-        X1 += 0.00000000088 * Math.cos(6.16582202980 + 3613.52920153491 * t);
-        X1 += 0.00000000065 * Math.cos(3.39284738601 + 15121.3466026995 * t);
-        X1 += 0.00000000077 * Math.cos(0.99849955209 + 14127.99895376209 * t);
-        X1 += 0.00000000069 * Math.cos(1.59437276472 + 43739.0461634493 * t);
-        X1 += 0.00000000066 * Math.cos(1.03311700868 + 5195.48854981791 * t);
-        X1 += 0.00000000066 * Math.cos(4.17470966227 + 5195.0009148509 * t);
-        X1 += 0.00000000065 * Math.cos(0.76344895489 + 6708.8702269799 * t);
-        X1 += 0.00000000071 * Math.cos(5.13055527150 + 10176.94655174729 * t);
-        X1 += 0.00000000090 * Math.cos(5.15547486786 + 6740.84253279671 * t);
-        X1 += 0.00000000065 * Math.cos(0.10668764820 + 4140.6773693487 * t);
-        X1 += 0.00000000064 * Math.cos(4.35311548094 + 9801.6684551441 * t);
-        X1 += 0.00000000085 * Math.cos(2.97975451165 + 43340.8971600411 * t);
-        X1 += 0.00000000087 * Math.cos(5.05289595532 + 9859.6144614507 * t);
-        X1 += 0.00000000074 * Math.cos(0.32205798976 + 10596.4258959177 * t);
-        X1 += 0.00000000065 * Math.cos(0.93949119244 + 6681.0485947895 * t);
-        X1 += 0.00000000071 * Math.cos(0.13869046417 + 4143.2201666295 * t);
-        X1 += 0.00000000066 * Math.cos(1.89967622669 + 3267.2552882681 * t);
-        X1 += 0.00000000066 * Math.cos(1.08249803836 + 3414.4572000985 * t);
-        X1 += 0.00000000063 * Math.cos(1.22371219128 + 6467.68194047809 * t);
-        X1 += 0.00000000064 * Math.cos(2.27838099501 + 3487.66793070691 * t);
-        X1 += 0.00000000064 * Math.cos(0.70379327004 + 3194.0445576597 * t);
-        X1 += 0.00000000085 * Math.cos(4.60745592882 + 10720.8646108435 * t);
-        X1 += 0.00000000062 * Math.cos(1.44691455296 + 35.7840491939 * t);
-        X1 += 0.00000000062 * Math.cos(1.44691455296 + 36.27168416091 * t);
-        X1 += 0.00000000064 * Math.cos(0.50126921709 + 11773.13299403189 * t);
-        X1 += 0.00000000064 * Math.cos(3.39664176030 + 41747.81351144129 * t);
-        X1 += 0.00000000068 * Math.cos(4.85567854407 + 12809.12412144031 * t);
-        X1 += 0.00000000062 * Math.cos(3.24713366848 + 18461.9590293993 * t);
-        X1 += 0.00000000068 * Math.cos(1.99986373490 + 6614.9812619687 * t);
-        X1 += 0.00000000079 * Math.cos(3.63912822114 + 11236.8161169035 * t);
-        X1 += 0.00000000066 * Math.cos(0.00739681430 + 9998.20265983511 * t);
-        X1 += 0.00000000064 * Math.cos(3.57531615713 + 11526.88127170889 * t);
-        X1 += 0.00000000070 * Math.cos(1.91919982448 + 16858.6590401139 * t);
-        X1 += 0.00000000065 * Math.cos(2.25710269131 + 20597.0001455577 * t);
-        X1 += 0.00000000064 * Math.cos(6.00619877627 + 40796.5827401577 * t);
-        X1 += 0.00000000079 * Math.cos(3.24064854543 + 10730.58326489249 * t);
-        X1 += 0.00000000062 * Math.cos(2.19007422012 + 20040.3952593333 * t);
-        X1 += 0.00000000066 * Math.cos(4.61504680225 + 8428.9974489831 * t);
-        X1 += 0.00000000079 * Math.cos(1.14777889484 + 40398.4337367495 * t);
-        X1 += 0.00000000059 * Math.cos(4.95064610711 + 44959.3038585067 * t);
-        X1 += 0.00000000063 * Math.cos(1.57149098969 + 20743.1895259099 * t);
-        X1 += 0.00000000060 * Math.cos(5.59502027006 + 10016.5581732755 * t);
-        X1 += 0.00000000059 * Math.cos(2.37148961772 + 13745.10242153889 * t);
-        X1 += 0.00000000067 * Math.cos(4.66236805003 + 9329.9234963561 * t);
-        X1 += 0.00000000078 * Math.cos(3.20257989132 + 24606.3793707035 * t);
-        X1 += 0.00000000080 * Math.cos(4.78522853089 + 5202.6020968187 * t);
-        X1 += 0.00000000057 * Math.cos(0.14787405732 + 12928.98178640591 * t);
-        X1 += 0.00000000080 * Math.cos(2.57142552579 + 27417.3008323087 * t);
-        X1 += 0.00000000077 * Math.cos(2.68569752236 + 4845.6564183093 * t);
-        X1 += 0.00000000062 * Math.cos(1.28402834481 + 12987.86801335249 * t);
-        X1 += 0.00000000057 * Math.cos(3.31195041686 + 5820.6711071633 * t);
-        X1 += 0.00000000057 * Math.cos(4.71242438007 + 25841.04938475869 * t);
-        X1 += 0.00000000059 * Math.cos(1.99234809567 + 5945.5921573513 * t);
-        X1 += 0.00000000061 * Math.cos(2.21763600824 + 3264.59017290771 * t);
-        X1 += 0.00000000058 * Math.cos(0.15438737921 + 15423.5113783545 * t);
-        X1 += 0.00000000074 * Math.cos(1.62116168437 + 9623.4444592077 * t);
-        X1 += 0.00000000062 * Math.cos(0.01729652290 + 3324.02404313351 * t);
-        X1 += 0.00000000062 * Math.cos(2.96487774215 + 3357.6884452331 * t);
-        X1 += 0.00000000060 * Math.cos(3.21935705290 + 9225.29545579949 * t);
-        X1 += 0.00000000061 * Math.cos(0.87383375009 + 5223.93773728571 * t);
-        X1 += 0.00000000056 * Math.cos(6.08238895883 + 3702.9773809141 * t);
-        X1 += 0.00000000056 * Math.cos(3.18297061340 + 2978.7351074525 * t);
-        X1 += 0.00000000055 * Math.cos(5.55769169501 + 12715.68269096791 * t);
-        X1 += 0.00000000058 * Math.cos(6.20637133104 + 14584.05445563709 * t);
-        X1 += 0.00000000075 * Math.cos(3.03936450956 + 4776.0039059427 * t);
-        X1 += 0.00000000054 * Math.cos(6.20587218477 + 45885.2115799245 * t);
-        X1 += 0.00000000055 * Math.cos(0.20267751971 + 2126.05391455991 * t);
-        X1 += 0.00000000054 * Math.cos(5.63419925281 + 9381.69617630189 * t);
-        X1 += 0.00000000054 * Math.cos(1.14797661971 + 5607.3720117253 * t);
-        X1 += 0.00000000053 * Math.cos(4.66773371614 + 6789.1321948217 * t);
-        X1 += 0.00000000058 * Math.cos(1.18695310382 + 3268.8005108285 * t);
-        X1 += 0.00000000058 * Math.cos(1.79522116123 + 3412.9119775381 * t);
-        X1 += 0.00000000053 * Math.cos(4.87665472917 + 12509.00950756369 * t);
-        X1 += 0.00000000053 * Math.cos(1.73506207558 + 12509.4971425307 * t);
-        X1 += 0.00000000073 * Math.cos(3.99821780645 + 14867.49369840869 * t);
-        X1 += 0.00000000053 * Math.cos(3.76863341135 + 14481.4493163855 * t);
-        X1 += 0.00000000054 * Math.cos(0.37546635249 + 24491.18197509989 * t);
-        X1 += 0.00000000052 * Math.cos(4.72089853524 + 6813.0106325695 * t);
-        X1 += 0.00000000054 * Math.cos(3.09595317364 + 8186.2688450091 * t);
-        X1 += 0.00000000054 * Math.cos(0.00461175410 + 21150.56954840009 * t);
-        X1 += 0.00000000054 * Math.cos(2.87852685560 + 8226.8226538619 * t);
-        X1 += 0.00000000054 * Math.cos(1.09489146543 + 18849.4713674577 * t);
-        X1 += 0.00000000068 * Math.cos(0.66923543045 + 20213.4985608153 * t);
-        X1 += 0.00000000062 * Math.cos(1.20435016011 + 9175.9982628317 * t);
-        X1 += 0.00000000068 * Math.cos(0.82610831691 + 2391.6806352135 * t);
-        X1 += 0.00000000055 * Math.cos(4.11195400528 + 23539.46356884929 * t);
-        X1 += 0.00000000072 * Math.cos(0.36267682866 + 3342.34071689161 * t);
-        X1 += 0.00000000072 * Math.cos(2.61949743639 + 3339.371771475 * t);
-        X1 += 0.00000000055 * Math.cos(2.02910200345 + 6843.4476720483 * t);
-        X1 += 0.00000000060 * Math.cos(0.59388124144 + 4885.72259219509 * t);
-        X1 += 0.00000000052 * Math.cos(0.73783930820 + 7799.73682801889 * t);
-        X1 += 0.00000000063 * Math.cos(3.16724562752 + 21265.7669440037 * t);
-        X1 += 0.00000000069 * Math.cos(5.26085614502 + 24889.33097850809 * t);
-        X1 += 0.00000000051 * Math.cos(4.53705971735 + 37895.6701078509 * t);
-        X1 += 0.00000000052 * Math.cos(3.81855873195 + 45088.42593814109 * t);
-        X1 += 0.00000000051 * Math.cos(6.16736633171 + 12410.9751180321 * t);
-        X1 += 0.00000000068 * Math.cos(4.79486677262 + 1854.38848815109 * t);
-        X1 += 0.00000000054 * Math.cos(3.63347214209 + 2736.0065034785 * t);
-        X1 += 0.00000000052 * Math.cos(0.45870559028 + 16328.48044005229 * t);
-        X1 += 0.00000000051 * Math.cos(2.71896338300 + 16063.4086646685 * t);
-        X1 += 0.00000000061 * Math.cos(4.37753041368 + 2655.74487965451 * t);
-        X1 += 0.00000000056 * Math.cos(6.12270264253 + 8439.6341143329 * t);
-        X1 += 0.00000000050 * Math.cos(1.66638675730 + 1727.90491115171 * t);
-        X1 += 0.00000000054 * Math.cos(4.41236851357 + 5408.78764525591 * t);
-        X1 += 0.00000000059 * Math.cos(5.82807691891 + 12516.6106895315 * t);
-        X1 += 0.00000000052 * Math.cos(2.44824121469 + 4356.03162710049 * t);
-        X1 += 0.00000000050 * Math.cos(5.98909587083 + 3116.5114484814 * t);
-        X1 += 0.00000000050 * Math.cos(3.27629040044 + 3565.2010398852 * t);
-        X1 += 0.00000000049 * Math.cos(3.04482195507 + 55516.6625273317 * t);
-        X1 += 0.00000000050 * Math.cos(3.76474251754 + 3742.5283659405 * t);
-        X1 += 0.00000000048 * Math.cos(1.55364396872 + 1882.83767561889 * t);
-        X1 += 0.00000000054 * Math.cos(1.33668194066 + 20426.8149099055 * t);
-        X1 += 0.00000000048 * Math.cos(4.53136736783 + 16865.28495214769 * t);
-        X1 += 0.00000000061 * Math.cos(3.94417006930 + 19617.3201868063 * t);
-        X1 += 0.00000000048 * Math.cos(1.52363711730 + 19190.7219959303 * t);
-        X1 += 0.00000000048 * Math.cos(4.57834518343 + 24341.28449997309 * t);
-        X1 += 0.00000000056 * Math.cos(0.62265341478 + 10787.3865270623 * t);
-        X1 += 0.00000000048 * Math.cos(1.47112939196 + 44768.3432273621 * t);
-        X1 += 0.00000000047 * Math.cos(4.52109505540 + 13517.55897844709 * t);
-        X1 += 0.00000000051 * Math.cos(4.70693407374 + 5750.1055840313 * t);
-        X1 += 0.00000000053 * Math.cos(0.31337304133 + 1971.70835637129 * t);
-        X1 += 0.00000000047 * Math.cos(0.76973666278 + 11876.7134032175 * t);
-        X1 += 0.00000000047 * Math.cos(5.80540140583 + 2257.59587624631 * t);
-        X1 += 0.00000000053 * Math.cos(0.80336106618 + 20043.43074271529 * t);
-        X1 += 0.00000000050 * Math.cos(2.12975781859 + 32765.00284213229 * t);
-        X1 += 0.00000000047 * Math.cos(0.13685654516 + 39048.5663270907 * t);
-        X1 += 0.00000000048 * Math.cos(3.00714578495 + 135.30889751891 * t);
-        X1 += 0.00000000064 * Math.cos(3.04700054519 + 1329.75590774351 * t);
-        X1 += 0.00000000051 * Math.cos(5.44594778277 + 2693.84541086851 * t);
-        X1 += 0.00000000055 * Math.cos(2.85027352182 + 5834.8982011649 * t);
-        X1 += 0.00000000046 * Math.cos(0.27718268152 + 1795.5022612045 * t);
-        X1 += 0.00000000055 * Math.cos(4.04664328548 + 4403.76129272151 * t);
-        X1 += 0.00000000048 * Math.cos(0.33882252916 + 14955.2895379155 * t);
-        X1 += 0.00000000059 * Math.cos(2.13527332496 + 4290.0318531531 * t);
-        X1 += 0.00000000047 * Math.cos(1.62007289183 + 35464.73766144989 * t);
-        X1 += 0.00000000047 * Math.cos(4.76166554542 + 35465.2252964169 * t);
-        X1 += 0.00000000045 * Math.cos(0.23464093612 + 5835.38583613191 * t);
-        X1 += 0.00000000052 * Math.cos(3.84343144307 + 17660.05964657349 * t);
-        X1 += 0.00000000048 * Math.cos(0.93046633940 + 1859.44687283811 * t);
-        X1 += 0.00000000056 * Math.cos(3.86355359519 + 532.9702659601 * t);
-        X1 += 0.00000000052 * Math.cos(0.80583034945 + 3718.2298520991 * t);
-        X1 += 0.00000000052 * Math.cos(2.17634391560 + 2963.4826362675 * t);
-        X1 += 0.00000000045 * Math.cos(0.08670687387 + 22487.12787535809 * t);
-        X1 += 0.00000000061 * Math.cos(4.60323457975 + 7380.7398191107 * t);
-        X1 += 0.00000000045 * Math.cos(2.80587535059 + 38252.2683202743 * t);
-        X1 += 0.00000000045 * Math.cos(3.33165976697 + 8741.79888998789 * t);
-        X1 += 0.00000000054 * Math.cos(1.04355837542 + 1056.1026293237 * t);
-        X1 += 0.00000000045 * Math.cos(2.35300742152 + 5511.8804194745 * t);
-        X1 += 0.00000000045 * Math.cos(5.22801084585 + 664.99986261351 * t);
-        X1 += 0.00000000045 * Math.cos(2.08641819226 + 664.51222764649 * t);
-        X1 += 0.00000000045 * Math.cos(3.15300518185 + 3973.6399834965 * t);
-        X1 += 0.00000000044 * Math.cos(3.22051341282 + 5401.6740982551 * t);
-        X1 += 0.00000000054 * Math.cos(1.65601444750 + 931.1192693683 * t);
-        X1 += 0.00000000046 * Math.cos(0.11012295064 + 5881.6475457177 * t);
-        X1 += 0.00000000050 * Math.cos(2.52491431413 + 1744.66980189871 * t);
-        X1 += 0.00000000044 * Math.cos(3.45607612983 + 3244.8770169655 * t);
-        X1 += 0.00000000044 * Math.cos(5.80928344240 + 3436.8354714011 * t);
-        X1 += 0.00000000045 * Math.cos(4.66994870660 + 1265.81129610991 * t);
-        X1 += 0.00000000044 * Math.cos(6.06839188413 + 17499.6039577989 * t);
-        X1 += 0.00000000043 * Math.cos(5.89648781204 + 97670.14389541368 * t);
-        X1 += 0.00000000057 * Math.cos(4.80979061249 + 46283.3605833327 * t);
-        X1 += 0.00000000044 * Math.cos(4.99066032403 + 10191.17364574889 * t);
-        X1 += 0.00000000043 * Math.cos(2.87708345328 + 33163.6394805075 * t);
-        X1 += 0.00000000047 * Math.cos(3.84961762116 + 17256.8753538249 * t);
-        X1 += 0.00000000044 * Math.cos(6.17241939552 + 2708.07250487011 * t);
-        X1 += 0.00000000059 * Math.cos(5.12086252013 + 2524.20291796811 * t);
-        X1 += 0.00000000053 * Math.cos(0.56166352340 + 8337.0289750813 * t);
-        X1 += 0.00000000053 * Math.cos(4.32226690599 + 14054.8511255095 * t);
-        X1 += 0.00000000043 * Math.cos(5.31336835297 + 12200.2188198749 * t);
-        X1 += 0.00000000046 * Math.cos(5.92396722498 + 1648.69057468091 * t);
-        X1 += 0.00000000042 * Math.cos(2.74816043776 + 845.8390172677 * t);
-        X1 += 0.00000000043 * Math.cos(4.63799596013 + 41194.7317435659 * t);
-        X1 += 0.00000000047 * Math.cos(4.18521043124 + 13531.78607244869 * t);
-        X1 += 0.00000000047 * Math.cos(1.11517601592 + 15850.1095692305 * t);
-        X1 += 0.00000000042 * Math.cos(5.91221095313 + 12729.9097849695 * t);
-        X1 += 0.00000000043 * Math.cos(3.52376715745 + 15107.1195086979 * t);
-        X1 += 0.00000000043 * Math.cos(1.90839497963 + 8123.7298796433 * t);
-        X1 += 0.00000000046 * Math.cos(1.99766003910 + 2325.1932262991 * t);
-        X1 += 0.00000000043 * Math.cos(5.33982186623 + 14469.34469500049 * t);
-        X1 += 0.00000000043 * Math.cos(2.75590007489 + 2854.8841913937 * t);
-        X1 += 0.00000000043 * Math.cos(0.22627419016 + 3826.82829697291 * t);
-        X1 += 0.00000000041 * Math.cos(4.48535365931 + 42544.5991532247 * t);
-        X1 += 0.00000000042 * Math.cos(0.81046200996 + 2652.2217613055 * t);
-        X1 += 0.00000000042 * Math.cos(4.75852639657 + 38086.6307389955 * t);
-        X1 += 0.00000000045 * Math.cos(5.07021316431 + 3361.1440047087 * t);
-        X1 += 0.00000000043 * Math.cos(5.68935522674 + 28229.94340520789 * t);
-        X1 += 0.00000000048 * Math.cos(1.95422763977 + 12825.8890121873 * t);
-        X1 += 0.00000000052 * Math.cos(5.96852999978 + 6667.2415768815 * t);
-        X1 += 0.00000000041 * Math.cos(2.26231059465 + 3296.20241094311 * t);
-        X1 += 0.00000000041 * Math.cos(0.71986367040 + 3385.5100774235 * t);
-        X1 += 0.00000000043 * Math.cos(3.41833244496 + 46681.5095867409 * t);
-        X1 += 0.00000000040 * Math.cos(4.95644488553 + 6851.04885401611 * t);
-        X1 += 0.00000000040 * Math.cos(2.54157100544 + 8983.0544867925 * t);
-        X1 += 0.00000000043 * Math.cos(5.68028575617 + 20205.89737884749 * t);
-        X1 += 0.00000000040 * Math.cos(1.93822990752 + 20728.9624319083 * t);
-        X1 += 0.00000000044 * Math.cos(0.93531414815 + 29698.5313288193 * t);
-        X1 += 0.00000000041 * Math.cos(3.51275275749 + 4670.36833444331 * t);
-        X1 += 0.00000000052 * Math.cos(4.40335159538 + 3299.3054531985 * t);
-        X1 += 0.00000000052 * Math.cos(4.86200797685 + 3382.4070351681 * t);
-        X1 += 0.00000000041 * Math.cos(1.79203239583 + 48827.6750032161 * t);
-        X1 += 0.00000000046 * Math.cos(3.58085963587 + 19247.6203708659 * t);
-        X1 += 0.00000000054 * Math.cos(2.95533474059 + 3319.59321372389 * t);
-        X1 += 0.00000000039 * Math.cos(3.66982465499 + 743.23387801611 * t);
-        X1 += 0.00000000039 * Math.cos(3.73873153389 + 26357.43126715249 * t);
-        X1 += 0.00000000039 * Math.cos(0.59713888030 + 26357.9189021195 * t);
-        X1 += 0.00000000049 * Math.cos(4.88931538366 + 4025.9676087121 * t);
-        X1 += 0.00000000054 * Math.cos(2.40625176831 + 574.5886158183 * t);
-        X1 += 0.00000000052 * Math.cos(2.35515997528 + 1461.29786942991 * t);
-        X1 += 0.00000000041 * Math.cos(1.31959971528 + 45487.0625765163 * t);
-        X1 += 0.00000000051 * Math.cos(5.06339472166 + 102.84895673509 * t);
-        X1 += 0.00000000045 * Math.cos(1.82993488286 + 2715.1860518709 * t);
-        X1 += 0.00000000045 * Math.cos(1.15223938219 + 3966.52643649571 * t);
-        return X1 * t;
-    }
-
-
-    static double X2(double t) // 511 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00068999338 * Math.cos(5.55726456394 + 0.2438174835 * t);
-        X2 += 0.00082190105 * Math.cos(1.49108837587 + 3340.8562441833 * t);
-        X2 += 0.00021826465 * Math.cos(3.36498183687 + 6681.46867088311 * t);
-        X2 += 0.00006036287 * Math.cos(3.88765559226 + 10022.0810975829 * t);
-        X2 += 0.00001291999 * Math.cos(3.87907870157 + 3340.36860921629 * t);
-        X2 += 0.00001125170 * Math.cos(4.26813980903 + 13362.6935242827 * t);
-        X2 += 0.00000182064 * Math.cos(4.62383908892 + 16703.3059509825 * t);
-        X2 += 0.00000172815 * Math.cos(4.51953182882 + 3337.33312583431 * t);
-        X2 += 0.00000164573 * Math.cos(4.61946633733 + 3344.3793625323 * t);
-        X2 += 0.00000128077 * Math.cos(4.44271682598 + 6680.98103591609 * t);
-        X2 += 0.00000093944 * Math.cos(0.94466158704 + 3185.43584474911 * t);
-        X2 += 0.00000089463 * Math.cos(2.03179886201 + 3496.2766436175 * t);
-        X2 += 0.00000040244 * Math.cos(5.00717764881 + 6684.9917892321 * t);
-        X2 += 0.00000036661 * Math.cos(1.60353028933 + 1059.6257476727 * t);
-        X2 += 0.00000027490 * Math.cos(4.97123271543 + 20043.9183776823 * t);
-        X2 += 0.00000024847 * Math.cos(3.58016850622 + 3149.4079780717 * t);
-        X2 += 0.00000023186 * Math.cos(5.57924030683 + 3532.3045102949 * t);
-        X2 += 0.00000024495 * Math.cos(5.73028409392 + 2544.5582373669 * t);
-        X2 += 0.00000020269 * Math.cos(3.44189573522 + 4137.1542509997 * t);
-        X2 += 0.00000018207 * Math.cos(3.43690977415 + 3098.1276402093 * t);
-        X2 += 0.00000017365 * Math.cos(4.15861973569 + 2942.7072407751 * t);
-        X2 += 0.00000016922 * Math.cos(5.82133860801 + 3583.5848481573 * t);
-        X2 += 0.00000016265 * Math.cos(1.04984131412 + 5622.08674069391 * t);
-        X2 += 0.00000015988 * Math.cos(1.61453370816 + 1194.6908277081 * t);
-        X2 += 0.00000015705 * Math.cos(4.76611870892 + 3739.0052475915 * t);
-        X2 += 0.00000013211 * Math.cos(5.14469570759 + 1990.9888345245 * t);
-        X2 += 0.00000016835 * Math.cos(2.34831657807 + 2787.2868413409 * t);
-        X2 += 0.00000012623 * Math.cos(3.74877336094 + 2389.1378379327 * t);
-        X2 += 0.00000013191 * Math.cos(4.82160322627 + 10021.5934626159 * t);
-        X2 += 0.00000012309 * Math.cos(0.81667763054 + 3339.8759231151 * t);
-        X2 += 0.00000015092 * Math.cos(0.24928051607 + 1592.8398311163 * t);
-        X2 += 0.00000011292 * Math.cos(1.29869510013 + 6526.04827144891 * t);
-        X2 += 0.00000012308 * Math.cos(2.12893393689 + 3341.83656525151 * t);
-        X2 += 0.00000011493 * Math.cos(2.85941655933 + 796.5418242999 * t);
-        X2 += 0.00000014005 * Math.cos(0.62664625135 + 3894.4256470257 * t);
-        X2 += 0.00000010521 * Math.cos(2.12777102096 + 4400.2381743725 * t);
-        X2 += 0.00000013157 * Math.cos(2.63040425407 + 155.17658195069 * t);
-        X2 += 0.00000009155 * Math.cos(5.50505997499 + 4292.5746504339 * t);
-        X2 += 0.00000008383 * Math.cos(4.10001775855 + 4690.7236538421 * t);
-        X2 += 0.00000010715 * Math.cos(0.86217417712 + 2146.4092339587 * t);
-        X2 += 0.00000008087 * Math.cos(5.34109961713 + 10025.6042159319 * t);
-        X2 += 0.00000008070 * Math.cos(1.27034526598 + 5487.0216606585 * t);
-        X2 += 0.00000008313 * Math.cos(1.22840731664 + 2957.9597119601 * t);
-        X2 += 0.00000007119 * Math.cos(2.20406602795 + 1589.3167127673 * t);
-        X2 += 0.00000007434 * Math.cos(1.73090220698 + 3723.7527764065 * t);
-        X2 += 0.00000008463 * Math.cos(2.69211325650 + 5088.8726572503 * t);
-        X2 += 0.00000008851 * Math.cos(2.06610908753 + 4535.3032544079 * t);
-        X2 += 0.00000006118 * Math.cos(5.33366394762 + 7079.61767429131 * t);
-        X2 += 0.00000005446 * Math.cos(6.02298801760 + 5885.1706640667 * t);
-        X2 += 0.00000005632 * Math.cos(1.23083025270 + 553.32558535889 * t);
-        X2 += 0.00000005307 * Math.cos(5.39355782839 + 242.97242145751 * t);
-        X2 += 0.00000004779 * Math.cos(2.26833646163 + 1748.2602305505 * t);
-        X2 += 0.00000005798 * Math.cos(4.89156562350 + 7.3573644843 * t);
-        X2 += 0.00000005029 * Math.cos(2.19814519647 + 2273.8731320263 * t);
-        X2 += 0.00000004779 * Math.cos(0.35723903723 + 3333.7426971825 * t);
-        X2 += 0.00000004645 * Math.cos(6.11788961406 + 951.4745887671 * t);
-        X2 += 0.00000005308 * Math.cos(4.04427431331 + 6490.0204047715 * t);
-        X2 += 0.00000005680 * Math.cos(2.22833819331 + 529.9347825781 * t);
-        X2 += 0.00000004316 * Math.cos(0.66431258202 + 4933.4522578161 * t);
-        X2 += 0.00000004455 * Math.cos(4.63572690053 + 2288.1002260279 * t);
-        X2 += 0.00000004106 * Math.cos(0.58655299185 + 5092.3957755993 * t);
-        X2 += 0.00000004484 * Math.cos(3.97431621601 + 3870.54720927791 * t);
-        X2 += 0.00000004129 * Math.cos(2.65817400046 + 3347.96979118411 * t);
-        X2 += 0.00000003982 * Math.cos(5.31410167478 + 23384.5308043821 * t);
-        X2 += 0.00000003668 * Math.cos(5.18866421914 + 3340.83899053111 * t);
-        X2 += 0.00000003668 * Math.cos(0.93622666271 + 3340.8734978355 * t);
-        X2 += 0.00000004603 * Math.cos(3.84811665743 + 7477.7666776995 * t);
-        X2 += 0.00000003137 * Math.cos(3.80753274993 + 6438.7400669091 * t);
-        X2 += 0.00000003223 * Math.cos(2.20207720882 + 426.8420083595 * t);
-        X2 += 0.00000004083 * Math.cos(4.72879097145 + 1349.62359217529 * t);
-        X2 += 0.00000003073 * Math.cos(3.35893621939 + 1747.7725955835 * t);
-        X2 += 0.00000003724 * Math.cos(3.92616253855 + 6151.7777057885 * t);
-        X2 += 0.00000003580 * Math.cos(0.29090747369 + 2280.98667902709 * t);
-        X2 += 0.00000002506 * Math.cos(5.53763489777 + 5331.6012612243 * t);
-        X2 += 0.00000002389 * Math.cos(2.03493789554 + 6836.8890703173 * t);
-        X2 += 0.00000002777 * Math.cos(2.28004564558 + 382.6527147397 * t);
-        X2 += 0.00000002243 * Math.cos(3.67333516968 + 1350.1112271423 * t);
-        X2 += 0.00000002179 * Math.cos(2.71210505704 + 6127.8992680407 * t);
-        X2 += 0.00000002794 * Math.cos(4.55180867021 + 6677.9455525341 * t);
-        X2 += 0.00000002007 * Math.cos(2.53260318164 + 6682.44899195131 * t);
-        X2 += 0.00000002204 * Math.cos(5.71912902267 + 9492.3901324883 * t);
-        X2 += 0.00000001869 * Math.cos(2.42716744125 + 4929.92913946711 * t);
-        X2 += 0.00000001955 * Math.cos(0.78128655783 + 6681.45141723091 * t);
-        X2 += 0.00000002432 * Math.cos(0.97455241566 + 640.1411037975 * t);
-        X2 += 0.00000001785 * Math.cos(4.64994614803 + 3554.1553396213 * t);
-        X2 += 0.00000001956 * Math.cos(2.81122973926 + 6681.4859245353 * t);
-        X2 += 0.00000002128 * Math.cos(2.52171277812 + 7740.8506010723 * t);
-        X2 += 0.00000002132 * Math.cos(2.76821785309 + 398.3928208917 * t);
-        X2 += 0.00000001915 * Math.cos(0.11819972923 + 191.2044486281 * t);
-        X2 += 0.00000001620 * Math.cos(2.44109389132 + 7875.91568110771 * t);
-        X2 += 0.00000001540 * Math.cos(4.39464833734 + 3127.5571487453 * t);
-        X2 += 0.00000001960 * Math.cos(6.16925557034 + 6924.1972748571 * t);
-        X2 += 0.00000001559 * Math.cos(0.77292154394 + 2281.4743139941 * t);
-        X2 += 0.00000001569 * Math.cos(1.33136574759 + 8969.8127143945 * t);
-        X2 += 0.00000001559 * Math.cos(5.17485623460 + 8955.58562039291 * t);
-        X2 += 0.00000001390 * Math.cos(5.15686093227 + 13362.2058893157 * t);
-        X2 += 0.00000001868 * Math.cos(4.12485939066 + 5729.7502646325 * t);
-        X2 += 0.00000001714 * Math.cos(4.40106234765 + 6674.3551238823 * t);
-        X2 += 0.00000001444 * Math.cos(2.78777227082 + 2119.00767786191 * t);
-        X2 += 0.00000001461 * Math.cos(5.66929508293 + 13366.21664263171 * t);
-        X2 += 0.00000001339 * Math.cos(2.11058695972 + 2145.92159899169 * t);
-        X2 += 0.00000001222 * Math.cos(0.48334105773 + 6254.8704800071 * t);
-        X2 += 0.00000001257 * Math.cos(3.98999018614 + 641.12142486571 * t);
-        X2 += 0.00000001485 * Math.cos(1.64745398687 + 9866.66069814871 * t);
-        X2 += 0.00000001566 * Math.cos(0.18233365390 + 8962.6991673937 * t);
-        X2 += 0.00000001160 * Math.cos(1.59307514109 + 6298.57213865991 * t);
-        X2 += 0.00000001124 * Math.cos(6.27801587166 + 12833.00255918811 * t);
-        X2 += 0.00000001479 * Math.cos(5.74615387809 + 10420.23010099111 * t);
-        X2 += 0.00000001201 * Math.cos(2.89742393965 + 3767.4544350593 * t);
-        X2 += 0.00000001207 * Math.cos(3.26671107441 + 3340.78893388051 * t);
-        X2 += 0.00000001207 * Math.cos(2.85824918128 + 3340.9235544861 * t);
-        X2 += 0.00000001403 * Math.cos(3.27423655733 + 6283.3196674749 * t);
-        X2 += 0.00000001082 * Math.cos(2.00077916742 + 12303.3115940935 * t);
-        X2 += 0.00000001021 * Math.cos(0.11004697104 + 4562.70481050471 * t);
-        X2 += 0.00000001086 * Math.cos(1.57123280785 + 1751.2957139325 * t);
-        X2 += 0.00000001153 * Math.cos(4.95873813423 + 7211.1596359777 * t);
-        X2 += 0.00000001277 * Math.cos(4.84268967955 + 2699.9786368011 * t);
-        X2 += 0.00000000930 * Math.cos(6.12678273780 + 2811.1652790887 * t);
-        X2 += 0.00000000918 * Math.cos(1.60703520232 + 155.6642169177 * t);
-        X2 += 0.00000000890 * Math.cos(5.56079732420 + 3343.8917275653 * t);
-        X2 += 0.00000000991 * Math.cos(4.45489640942 + 9830.6328314713 * t);
-        X2 += 0.00000001152 * Math.cos(5.07946933275 + 951.9622237341 * t);
-        X2 += 0.00000000877 * Math.cos(4.21408679267 + 10818.3791043993 * t);
-        X2 += 0.00000001028 * Math.cos(4.41166071466 + 3981.73385156551 * t);
-        X2 += 0.00000000724 * Math.cos(0.20350508903 + 553.8132203259 * t);
-        X2 += 0.00000000813 * Math.cos(3.33403943461 + 10022.0983512351 * t);
-        X2 += 0.00000000728 * Math.cos(6.18625603354 + 853.4401992355 * t);
-        X2 += 0.00000000746 * Math.cos(5.16496010034 + 9623.9320941747 * t);
-        X2 += 0.00000000684 * Math.cos(1.02857269442 + 8274.0646845159 * t);
-        X2 += 0.00000000813 * Math.cos(1.30336771571 + 10022.06384393071 * t);
-        X2 += 0.00000000641 * Math.cos(5.14516311024 + 6681.40136058031 * t);
-        X2 += 0.00000000632 * Math.cos(0.73190374320 + 10018.5579792339 * t);
-        X2 += 0.00000000616 * Math.cos(4.48165745116 + 7235.0380737255 * t);
-        X2 += 0.00000000846 * Math.cos(3.03682654998 + 6688.5822178839 * t);
-        X2 += 0.00000000857 * Math.cos(1.92920837540 + 6041.5713845691 * t);
-        X2 += 0.00000000572 * Math.cos(4.49573046647 + 529.44714761109 * t);
-        X2 += 0.00000000578 * Math.cos(5.24981714161 + 6040.5910635009 * t);
-        X2 += 0.00000000568 * Math.cos(2.55555530886 + 15643.9240207933 * t);
-        X2 += 0.00000000560 * Math.cos(2.22514515488 + 397.9051859247 * t);
-        X2 += 0.00000000661 * Math.cos(5.25544946005 + 6894.76776632111 * t);
-        X2 += 0.00000000538 * Math.cos(5.21568797326 + 4690.23601887509 * t);
-        X2 += 0.00000000701 * Math.cos(3.64136458654 + 3178.38960805111 * t);
-        X2 += 0.00000000689 * Math.cos(4.08112540175 + 796.0541893329 * t);
-        X2 += 0.00000000688 * Math.cos(5.61433085796 + 3503.3228803155 * t);
-        X2 += 0.00000000545 * Math.cos(4.98081015653 + 2766.5114458485 * t);
-        X2 += 0.00000000550 * Math.cos(3.02101538887 + 7633.1870771337 * t);
-        X2 += 0.00000000640 * Math.cos(4.73664982480 + 6681.5359811859 * t);
-        X2 += 0.00000000510 * Math.cos(1.69224093861 + 3893.93801205869 * t);
-        X2 += 0.00000000617 * Math.cos(2.56761131336 + 3253.5480396435 * t);
-        X2 += 0.00000000596 * Math.cos(0.41459493687 + 3428.16444872311 * t);
-        X2 += 0.00000000629 * Math.cos(0.07153257669 + 6.86972951729 * t);
-        X2 += 0.00000000603 * Math.cos(0.30001085052 + 4292.0870154669 * t);
-        X2 += 0.00000000548 * Math.cos(1.00098902826 + 6680.4883498149 * t);
-        X2 += 0.00000000444 * Math.cos(4.27401799503 + 3915.2010425181 * t);
-        X2 += 0.00000000411 * Math.cos(1.56657247102 + 3980.7535304973 * t);
-        X2 += 0.00000000560 * Math.cos(5.65797499774 + 26725.1432310819 * t);
-        X2 += 0.00000000399 * Math.cos(5.70475834066 + 12964.5445208745 * t);
-        X2 += 0.00000000383 * Math.cos(5.96972895101 + 2700.4713229023 * t);
-        X2 += 0.00000000409 * Math.cos(5.38057050876 + 7064.3652031063 * t);
-        X2 += 0.00000000499 * Math.cos(6.03750484858 + 2914.2580533073 * t);
-        X2 += 0.00000000408 * Math.cos(3.26187625259 + 2648.6986429565 * t);
-        X2 += 0.00000000494 * Math.cos(2.58791492755 + 1039.27042827391 * t);
-        X2 += 0.00000000367 * Math.cos(2.73062985578 + 8270.5415661669 * t);
-        X2 += 0.00000000379 * Math.cos(2.88219149441 + 11081.46302777211 * t);
-        X2 += 0.00000000354 * Math.cos(2.66145180389 + 1194.2031927411 * t);
-        X2 += 0.00000000403 * Math.cos(1.70308177622 + 8031.3360805419 * t);
-        X2 += 0.00000000449 * Math.cos(2.42384589322 + 213.0552779545 * t);
-        X2 += 0.00000000397 * Math.cos(2.26969467217 + 2544.07060239989 * t);
-        X2 += 0.00000000344 * Math.cos(5.97650048429 + 4033.0138454101 * t);
-        X2 += 0.00000000314 * Math.cos(4.31468219581 + 6872.91693699471 * t);
-        X2 += 0.00000000410 * Math.cos(5.85701038391 + 8433.00820229911 * t);
-        X2 += 0.00000000297 * Math.cos(4.80643849748 + 574.10098085129 * t);
-        X2 += 0.00000000326 * Math.cos(2.91113862688 + 10023.06141865111 * t);
-        X2 += 0.00000000294 * Math.cos(2.83275017779 + 5459.6201045617 * t);
-        X2 += 0.00000000278 * Math.cos(2.81997653776 + 11216.5281078075 * t);
-        X2 += 0.00000000274 * Math.cos(5.82142747819 + 10551.7720626775 * t);
-        X2 += 0.00000000355 * Math.cos(5.89906958059 + 8672.21368792411 * t);
-        X2 += 0.00000000287 * Math.cos(3.03599407466 + 3495.78900865049 * t);
-        X2 += 0.00000000282 * Math.cos(6.12544103738 + 13760.8425276909 * t);
-        X2 += 0.00000000359 * Math.cos(4.43440472664 + 3097.64000524229 * t);
-        X2 += 0.00000000266 * Math.cos(5.25677383400 + 10022.1484078857 * t);
-        X2 += 0.00000000284 * Math.cos(3.03494190652 + 5828.2722891311 * t);
-        X2 += 0.00000000314 * Math.cos(0.37126567078 + 16173.6149858879 * t);
-        X2 += 0.00000000263 * Math.cos(3.04592616684 + 9468.51169474051 * t);
-        X2 += 0.00000000277 * Math.cos(2.72843223796 + 3336.8454908673 * t);
-        X2 += 0.00000000251 * Math.cos(5.79261076520 + 2942.21960580809 * t);
-        X2 += 0.00000000269 * Math.cos(0.77221793249 + 2487.1722274643 * t);
-        X2 += 0.00000000256 * Math.cos(3.95807126956 + 5088.3850222833 * t);
-        X2 += 0.00000000265 * Math.cos(5.66503537702 + 10022.01378728011 * t);
-        X2 += 0.00000000241 * Math.cos(6.22048805000 + 2301.8296333929 * t);
-        X2 += 0.00000000232 * Math.cos(0.63600637107 + 13359.1704059337 * t);
-        X2 += 0.00000000261 * Math.cos(1.96413122632 + 1221.6047488379 * t);
-        X2 += 0.00000000225 * Math.cos(0.50307942308 + 1751.7833488995 * t);
-        X2 += 0.00000000252 * Math.cos(4.68430989389 + 1066.7392946735 * t);
-        X2 += 0.00000000246 * Math.cos(0.23565072433 + 10264.80970155691 * t);
-        X2 += 0.00000000285 * Math.cos(1.72684624328 + 12310.42514109431 * t);
-        X2 += 0.00000000243 * Math.cos(4.04327156952 + 9779.3524936089 * t);
-        X2 += 0.00000000220 * Math.cos(0.63056559109 + 8429.4850839501 * t);
-        X2 += 0.00000000280 * Math.cos(5.94773306444 + 5091.90814063229 * t);
-        X2 += 0.00000000214 * Math.cos(5.86156666088 + 2699.49100183409 * t);
-        X2 += 0.00000000234 * Math.cos(3.39608420004 + 6468.1695754451 * t);
-        X2 += 0.00000000247 * Math.cos(2.62514291276 + 213.5429129215 * t);
-        X2 += 0.00000000265 * Math.cos(2.95115218410 + 18984.5364474931 * t);
-        X2 += 0.00000000206 * Math.cos(3.53273929640 + 6836.40143535029 * t);
-        X2 += 0.00000000198 * Math.cos(3.71412641694 + 13362.7107779349 * t);
-        X2 += 0.00000000199 * Math.cos(1.68344049522 + 13362.6762706305 * t);
-        X2 += 0.00000000267 * Math.cos(1.77892178245 + 5614.9731936931 * t);
-        X2 += 0.00000000200 * Math.cos(0.77310064303 + 7632.6994421667 * t);
-        X2 += 0.00000000238 * Math.cos(5.99888163760 + 16706.8290693315 * t);
-        X2 += 0.00000000189 * Math.cos(2.67826488440 + 3723.26514143949 * t);
-        X2 += 0.00000000187 * Math.cos(1.24354577352 + 1592.3521961493 * t);
-        X2 += 0.00000000211 * Math.cos(3.39936925167 + 7108.06686175911 * t);
-        X2 += 0.00000000244 * Math.cos(0.11291910384 + 242.4847864905 * t);
-        X2 += 0.00000000193 * Math.cos(4.43444237494 + 9070.3626913323 * t);
-        X2 += 0.00000000198 * Math.cos(5.26919917088 + 191.6920835951 * t);
-        X2 += 0.00000000172 * Math.cos(4.83979658671 + 13171.2452581711 * t);
-        X2 += 0.00000000196 * Math.cos(1.99723494678 + 13207.27312484851 * t);
-        X2 += 0.00000000234 * Math.cos(2.13538732396 + 7234.5504387585 * t);
-        X2 += 0.00000000177 * Math.cos(1.94425535548 + 9639.18456535971 * t);
-        X2 += 0.00000000168 * Math.cos(1.75411639556 + 1052.51220067191 * t);
-        X2 += 0.00000000170 * Math.cos(2.99535940889 + 4379.8828549737 * t);
-        X2 += 0.00000000222 * Math.cos(0.39232779431 + 5642.4420600927 * t);
-        X2 += 0.00000000157 * Math.cos(1.36555252862 + 383.1403497067 * t);
-        X2 += 0.00000000155 * Math.cos(5.48011073140 + 12296.1980470927 * t);
-        X2 += 0.00000000154 * Math.cos(4.61716677676 + 10575.6505004253 * t);
-        X2 += 0.00000000155 * Math.cos(5.46273803177 + 16702.81831601549 * t);
-        X2 += 0.00000000171 * Math.cos(1.78790613674 + 3184.9482097821 * t);
-        X2 += 0.00000000148 * Math.cos(5.73788219136 + 10235.3801930209 * t);
-        X2 += 0.00000000140 * Math.cos(4.92817953315 + 6438.2524319421 * t);
-        X2 += 0.00000000141 * Math.cos(3.41744392254 + 10029.1946445837 * t);
-        X2 += 0.00000000154 * Math.cos(5.87338987371 + 2810.6776441217 * t);
-        X2 += 0.00000000137 * Math.cos(1.19383404130 + 1437.41943168211 * t);
-        X2 += 0.00000000133 * Math.cos(0.19722245975 + 8827.6340873583 * t);
-        X2 += 0.00000000131 * Math.cos(1.82245337339 + 3030.01544531491 * t);
-        X2 += 0.00000000134 * Math.cos(0.93479121392 + 2301.34199842589 * t);
-        X2 += 0.00000000128 * Math.cos(2.39973337332 + 9382.18381126891 * t);
-        X2 += 0.00000000119 * Math.cos(5.77157495793 + 5614.48555872609 * t);
-        X2 += 0.00000000120 * Math.cos(5.12604491583 + 3320.0808486909 * t);
-        X2 += 0.00000000119 * Math.cos(1.00229912761 + 3361.6316396757 * t);
-        X2 += 0.00000000116 * Math.cos(1.15960987836 + 3651.6970430517 * t);
-        X2 += 0.00000000117 * Math.cos(5.85304070266 + 6701.8239902819 * t);
-        X2 += 0.00000000146 * Math.cos(5.93167541862 + 3738.51761262449 * t);
-        X2 += 0.00000000129 * Math.cos(3.89120051809 + 6696.72114206811 * t);
-        X2 += 0.00000000118 * Math.cos(5.04634450495 + 149.8070146181 * t);
-        X2 += 0.00000000107 * Math.cos(5.12041826560 + 4407.3517213733 * t);
-        X2 += 0.00000000114 * Math.cos(4.75751094726 + 7322.34627826531 * t);
-        X2 += 0.00000000105 * Math.cos(3.15741664634 + 6666.2161996981 * t);
-        X2 += 0.00000000108 * Math.cos(2.60224731647 + 10575.1628654583 * t);
-        X2 += 0.00000000115 * Math.cos(3.79062631878 + 9168.88471583091 * t);
-        X2 += 0.00000000130 * Math.cos(3.18226883156 + 10973.7995038335 * t);
-        X2 += 0.00000000101 * Math.cos(4.45451620205 + 14158.9915310991 * t);
-        X2 += 0.00000000102 * Math.cos(1.14962329478 + 4562.2171755377 * t);
-        X2 += 0.00000000099 * Math.cos(2.51353107397 + 5621.5991057269 * t);
-        X2 += 0.00000000101 * Math.cos(5.32874387689 + 9778.8648586419 * t);
-        X2 += 0.00000000115 * Math.cos(4.59270876787 + 3148.9203431047 * t);
-        X2 += 0.00000000131 * Math.cos(1.18803355863 + 6661.11335148431 * t);
-        X2 += 0.00000000134 * Math.cos(6.02271435541 + 2913.7704183403 * t);
-        X2 += 0.00000000113 * Math.cos(3.71424984396 + 6519.0020347509 * t);
-        X2 += 0.00000000096 * Math.cos(0.98095706382 + 2700.9589578693 * t);
-        X2 += 0.00000000094 * Math.cos(0.24327692845 + 6816.53375091851 * t);
-        X2 += 0.00000000097 * Math.cos(1.78626013160 + 11371.9485072417 * t);
-        X2 += 0.00000000118 * Math.cos(4.70652198213 + 10213.5293636945 * t);
-        X2 += 0.00000000088 * Math.cos(6.06276290521 + 1835.56843509031 * t);
-        X2 += 0.00000000096 * Math.cos(2.19847165068 + 15114.2330556987 * t);
-        X2 += 0.00000000119 * Math.cos(3.97087141578 + 10177.01386205009 * t);
-        X2 += 0.00000000096 * Math.cos(5.83220204707 + 6684.5041542651 * t);
-        X2 += 0.00000000117 * Math.cos(5.16366852876 + 9225.7830907665 * t);
-        X2 += 0.00000000095 * Math.cos(4.29171920346 + 5486.53402569149 * t);
-        X2 += 0.00000000088 * Math.cos(5.74190057756 + 8030.8484455749 * t);
-        X2 += 0.00000000085 * Math.cos(0.27003870811 + 6151.2900708215 * t);
-        X2 += 0.00000000089 * Math.cos(1.17370697759 + 10177.5014970171 * t);
-        X2 += 0.00000000081 * Math.cos(1.80921862202 + 5244.2930566845 * t);
-        X2 += 0.00000000081 * Math.cos(3.79172529620 + 1505.04399160949 * t);
-        X2 += 0.00000000079 * Math.cos(5.56747633751 + 10404.9776298061 * t);
-        X2 += 0.00000000095 * Math.cos(6.07783916606 + 16305.1569475743 * t);
-        X2 += 0.00000000090 * Math.cos(4.66517176290 + 10014.9675505821 * t);
-        X2 += 0.00000000098 * Math.cos(5.10446957982 + 9808.78200214491 * t);
-        X2 += 0.00000000096 * Math.cos(2.86554772752 + 1059.1381127057 * t);
-        X2 += 0.00000000073 * Math.cos(0.72497936154 + 6660.6932753907 * t);
-        X2 += 0.00000000077 * Math.cos(4.35359928029 + 4136.66661603269 * t);
-        X2 += 0.00000000071 * Math.cos(1.03916311153 + 2274.3607669933 * t);
-        X2 += 0.00000000075 * Math.cos(5.63557700884 + 7903.3172372045 * t);
-        X2 += 0.00000000098 * Math.cos(0.02076697156 + 6040.10342853389 * t);
-        X2 += 0.00000000085 * Math.cos(0.44510087290 + 4194.0526259353 * t);
-        X2 += 0.00000000073 * Math.cos(0.44168846203 + 9380.71585523369 * t);
-        X2 += 0.00000000093 * Math.cos(6.09456085621 + 1990.5011995575 * t);
-        X2 += 0.00000000086 * Math.cos(6.18283823038 + 20752.4205449919 * t);
-        X2 += 0.00000000069 * Math.cos(1.38553111275 + 1903.6806299847 * t);
-        X2 += 0.00000000070 * Math.cos(4.70293199621 + 2388.6502029657 * t);
-        X2 += 0.00000000069 * Math.cos(2.17037139628 + 8962.2115324267 * t);
-        X2 += 0.00000000066 * Math.cos(4.49413894792 + 13517.62628874989 * t);
-        X2 += 0.00000000069 * Math.cos(6.00365908535 + 30065.7556577817 * t);
-        X2 += 0.00000000079 * Math.cos(5.98866196477 + 3337.26581553151 * t);
-        X2 += 0.00000000079 * Math.cos(0.13660951723 + 3344.4466728351 * t);
-        X2 += 0.00000000064 * Math.cos(2.30763395826 + 25287.47998191629 * t);
-        X2 += 0.00000000065 * Math.cos(3.24445550921 + 2631.86644190671 * t);
-        X2 += 0.00000000065 * Math.cos(1.03862495257 + 20199.3387771165 * t);
-        X2 += 0.00000000061 * Math.cos(5.30466523023 + 4032.52621044309 * t);
-        X2 += 0.00000000062 * Math.cos(2.05245090503 + 27035.49639498329 * t);
-        X2 += 0.00000000062 * Math.cos(1.42815172261 + 5641.9544251257 * t);
-        X2 += 0.00000000063 * Math.cos(1.53293676835 + 12936.0953334067 * t);
-        X2 += 0.00000000084 * Math.cos(2.38574993037 + 1903.19299501769 * t);
-        X2 += 0.00000000071 * Math.cos(5.95376472970 + 11770.0975106499 * t);
-        X2 += 0.00000000072 * Math.cos(5.64693968962 + 13119.47728534169 * t);
-        X2 += 0.00000000063 * Math.cos(5.63682315335 + 13362.7608345855 * t);
-        X2 += 0.00000000061 * Math.cos(5.64246036249 + 17411.8081182921 * t);
-        X2 += 0.00000000060 * Math.cos(1.64524258736 + 3205.7911641479 * t);
-        X2 += 0.00000000058 * Math.cos(1.51670643508 + 7255.8134692179 * t);
-        X2 += 0.00000000080 * Math.cos(2.35306753256 + 21795.4579090983 * t);
-        X2 += 0.00000000064 * Math.cos(0.76110443806 + 6768.77687542291 * t);
-        X2 += 0.00000000063 * Math.cos(3.56114214131 + 3340.38586286849 * t);
-        X2 += 0.00000000064 * Math.cos(5.16926753358 + 3914.71340755109 * t);
-        X2 += 0.00000000056 * Math.cos(3.47086999510 + 27434.1330333585 * t);
-        X2 += 0.00000000057 * Math.cos(0.87381633431 + 12721.32828193349 * t);
-        X2 += 0.00000000058 * Math.cos(4.48269709673 + 3475.92132421871 * t);
-        X2 += 0.00000000066 * Math.cos(5.64545659289 + 14127.99895376209 * t);
-        X2 += 0.00000000055 * Math.cos(3.21479909652 + 4846.1440532763 * t);
-        X2 += 0.00000000061 * Math.cos(3.21825869339 + 5989.3110696563 * t);
-        X2 += 0.00000000056 * Math.cos(0.73623323904 + 16699.7828326335 * t);
-        X2 += 0.00000000063 * Math.cos(1.53292797875 + 3340.3513555641 * t);
-        X2 += 0.00000000054 * Math.cos(3.27785291788 + 2786.7992063739 * t);
-        X2 += 0.00000000059 * Math.cos(3.22300251676 + 7063.87756813929 * t);
-        X2 += 0.00000000052 * Math.cos(3.36345782490 + 11128.73226830069 * t);
-        X2 += 0.00000000067 * Math.cos(4.65085357599 + 2233.71743849851 * t);
-        X2 += 0.00000000051 * Math.cos(2.44574956886 + 30376.10882168309 * t);
-        X2 += 0.00000000050 * Math.cos(4.18360328454 + 17924.66688233689 * t);
-        X2 += 0.00000000050 * Math.cos(1.01622762006 + 17925.1545173039 * t);
-        X2 += 0.00000000049 * Math.cos(3.23997362723 + 14422.0754544719 * t);
-        X2 += 0.00000000050 * Math.cos(2.88028372970 + 6594.1604663433 * t);
-        X2 += 0.00000000065 * Math.cos(5.34147580845 + 6107.1238725483 * t);
-        X2 += 0.00000000050 * Math.cos(6.02043294912 + 4049.8460464599 * t);
-        X2 += 0.00000000049 * Math.cos(1.41928479603 + 14584.05445563709 * t);
-        X2 += 0.00000000056 * Math.cos(2.84568635986 + 6702.2440663755 * t);
-        X2 += 0.00000000051 * Math.cos(4.61875474436 + 8432.52056733209 * t);
-        X2 += 0.00000000060 * Math.cos(4.23711909745 + 22743.6531969999 * t);
-        X2 += 0.00000000050 * Math.cos(1.38036390033 + 426.3543733925 * t);
-        X2 += 0.00000000056 * Math.cos(5.63954798239 + 9499.5036794891 * t);
-        X2 += 0.00000000048 * Math.cos(1.32224646794 + 21265.7669440037 * t);
-        X2 += 0.00000000045 * Math.cos(5.84170955710 + 13149.3944288447 * t);
-        X2 += 0.00000000055 * Math.cos(6.04214625243 + 13362.62621397991 * t);
-        X2 += 0.00000000047 * Math.cos(2.92094264898 + 9381.69617630189 * t);
-        X2 += 0.00000000051 * Math.cos(0.76284557905 + 19514.2274125877 * t);
-        X2 += 0.00000000047 * Math.cos(2.03226039424 + 7321.36595719711 * t);
-        X2 += 0.00000000048 * Math.cos(2.85045948416 + 23141.8022004081 * t);
-        X2 += 0.00000000062 * Math.cos(5.07812840159 + 6041.08374960209 * t);
-        X2 += 0.00000000056 * Math.cos(5.76598331597 + 9595.4829067069 * t);
-        X2 += 0.00000000045 * Math.cos(5.50975189318 + 17256.38771885789 * t);
-        X2 += 0.00000000043 * Math.cos(6.27646091354 + 9485.2765854875 * t);
-        X2 += 0.00000000055 * Math.cos(1.28106527129 + 16061.94070863329 * t);
-        X2 += 0.00000000042 * Math.cos(3.07366795744 + 8800.2325312615 * t);
-        X2 += 0.00000000044 * Math.cos(5.51875626180 + 17256.8753538249 * t);
-        X2 += 0.00000000055 * Math.cos(1.15180858550 + 8425.8946552983 * t);
-        X2 += 0.00000000043 * Math.cos(2.56622033374 + 6705.3471086309 * t);
-        X2 += 0.00000000042 * Math.cos(1.19860454413 + 25287.9676168833 * t);
-        X2 += 0.00000000050 * Math.cos(2.38959203838 + 11773.6206289989 * t);
-        X2 += 0.00000000046 * Math.cos(1.39809566223 + 10973.3118688665 * t);
-        X2 += 0.00000000042 * Math.cos(2.01717790098 + 6685.0590995349 * t);
-        X2 += 0.00000000043 * Math.cos(6.18001810512 + 16460.08971204149 * t);
-        X2 += 0.00000000042 * Math.cos(4.51566406515 + 6158.8912527893 * t);
-        X2 += 0.00000000043 * Math.cos(1.46895638191 + 6709.91785835091 * t);
-        X2 += 0.00000000040 * Math.cos(3.81761467851 + 6531.9054737485 * t);
-        X2 += 0.00000000050 * Math.cos(0.14621919981 + 13892.3844893773 * t);
-        X2 += 0.00000000039 * Math.cos(2.35834767375 + 691.9137837433 * t);
-        X2 += 0.00000000053 * Math.cos(6.10905519875 + 3347.90248088131 * t);
-        X2 += 0.00000000041 * Math.cos(2.27487072554 + 12323.17927852529 * t);
-        X2 += 0.00000000050 * Math.cos(2.32783343015 + 18454.8454823985 * t);
-        X2 += 0.00000000040 * Math.cos(3.67259125733 + 13554.1417903943 * t);
-        X2 += 0.00000000054 * Math.cos(6.27305419537 + 3333.8100074853 * t);
-        X2 += 0.00000000049 * Math.cos(4.48594234475 + 6657.59023313531 * t);
-        X2 += 0.00000000049 * Math.cos(3.05979125217 + 11611.1539928667 * t);
-        X2 += 0.00000000039 * Math.cos(2.75953361592 + 5243.80542171749 * t);
-        X2 += 0.00000000036 * Math.cos(1.79555223900 + 19801.1897737083 * t);
-        X2 += 0.00000000038 * Math.cos(0.48175253779 + 8186.7564799761 * t);
-        X2 += 0.00000000045 * Math.cos(1.66666762132 + 5628.7126527277 * t);
-        X2 += 0.00000000038 * Math.cos(1.09319366612 + 11614.6771112157 * t);
-        X2 += 0.00000000042 * Math.cos(1.58323618910 + 6677.8782422313 * t);
-        X2 += 0.00000000037 * Math.cos(0.09890574681 + 8428.9974489831 * t);
-        X2 += 0.00000000036 * Math.cos(4.11399535323 + 17655.0243572331 * t);
-        X2 += 0.00000000036 * Math.cos(4.93312159758 + 19800.7021387413 * t);
-        X2 += 0.00000000038 * Math.cos(3.33015953455 + 22325.1488741929 * t);
-        X2 += 0.00000000039 * Math.cos(0.38152703835 + 3583.0972131903 * t);
-        X2 += 0.00000000044 * Math.cos(6.07368194572 + 25686.1166202915 * t);
-        X2 += 0.00000000046 * Math.cos(4.61289468261 + 4447.9950498681 * t);
-        X2 += 0.00000000047 * Math.cos(1.84502012984 + 8982.5668518255 * t);
-        X2 += 0.00000000042 * Math.cos(2.98971092818 + 6254.38284504009 * t);
-        X2 += 0.00000000035 * Math.cos(4.50369247266 + 18606.25512851669 * t);
-        X2 += 0.00000000035 * Math.cos(1.76189804108 + 5099.50932260011 * t);
-        X2 += 0.00000000034 * Math.cos(4.98411585506 + 5827.78465416409 * t);
-        X2 += 0.00000000044 * Math.cos(5.32026095241 + 7902.8296022375 * t);
-        X2 += 0.00000000034 * Math.cos(2.70658486935 + 15663.79170522509 * t);
-        X2 += 0.00000000034 * Math.cos(3.06682390120 + 28230.4310401749 * t);
-        X2 += 0.00000000042 * Math.cos(3.27968491376 + 13363.67384535091 * t);
-        X2 += 0.00000000034 * Math.cos(5.24068810869 + 3.2793008655 * t);
-        X2 += 0.00000000038 * Math.cos(5.33550411635 + 6843.9353070153 * t);
-        X2 += 0.00000000033 * Math.cos(4.24587603414 + 11243.44202893729 * t);
-        X2 += 0.00000000033 * Math.cos(1.58483385818 + 4778.03185838191 * t);
-        X2 += 0.00000000035 * Math.cos(4.68394755805 + 26084.2656236997 * t);
-        X2 += 0.00000000042 * Math.cos(3.47886429128 + 31571.0434668747 * t);
-        X2 += 0.00000000034 * Math.cos(2.69688154052 + 692.4014187103 * t);
-        X2 += 0.00000000034 * Math.cos(3.61044061282 + 3347.4821562171 * t);
-        X2 += 0.00000000037 * Math.cos(3.09345116660 + 3341.3489302845 * t);
-        X2 += 0.00000000037 * Math.cos(0.85261167200 + 3127.0695137783 * t);
-        X2 += 0.00000000036 * Math.cos(1.40223718038 + 24606.3793707035 * t);
-        X2 += 0.00000000032 * Math.cos(3.21575612349 + 8584.41784841729 * t);
-        X2 += 0.00000000039 * Math.cos(5.52528074071 + 7255.3258342509 * t);
-        X2 += 0.00000000035 * Math.cos(4.88108821778 + 3333.2550622155 * t);
-        X2 += 0.00000000031 * Math.cos(5.90785295838 + 10595.9382609507 * t);
-        X2 += 0.00000000030 * Math.cos(0.37640913202 + 20736.0759789091 * t);
-        X2 += 0.00000000030 * Math.cos(5.34266413467 + 10713.75106384269 * t);
-        X2 += 0.00000000032 * Math.cos(3.96275214977 + 1744.1821669317 * t);
-        X2 += 0.00000000030 * Math.cos(2.12718216703 + 3.76693583251 * t);
-        X2 += 0.00000000036 * Math.cos(5.85230454873 + 15113.74542073169 * t);
-        X2 += 0.00000000030 * Math.cos(0.02303147918 + 1222.09238380491 * t);
-        X2 += 0.00000000031 * Math.cos(2.44338692629 + 2575.0631797369 * t);
-        X2 += 0.00000000031 * Math.cos(0.53878733876 + 4106.6493086297 * t);
-        X2 += 0.00000000029 * Math.cos(6.26168191376 + 8827.14645239129 * t);
-        X2 += 0.00000000030 * Math.cos(4.97271935437 + 640.6337898987 * t);
-        X2 += 0.00000000037 * Math.cos(1.22493098074 + 14712.5609339415 * t);
-        X2 += 0.00000000028 * Math.cos(1.67581087356 + 12509.4971425307 * t);
-        X2 += 0.00000000030 * Math.cos(2.88869644863 + 6282.83203250789 * t);
-        X2 += 0.00000000029 * Math.cos(2.04175207609 + 16276.7077601065 * t);
-        X2 += 0.00000000028 * Math.cos(0.37303060773 + 8440.1217492999 * t);
-        X2 += 0.00000000032 * Math.cos(6.06171055220 + 11769.6098756829 * t);
-        X2 += 0.00000000030 * Math.cos(0.66860843732 + 24076.6884056089 * t);
-        X2 += 0.00000000028 * Math.cos(2.16704382280 + 15651.03756779411 * t);
-        X2 += 0.00000000035 * Math.cos(3.10903764323 + 19004.4041319249 * t);
-        X2 += 0.00000000035 * Math.cos(1.22211763949 + 14712.07329897449 * t);
-        X2 += 0.00000000028 * Math.cos(5.99561319996 + 3553.66770465429 * t);
-        X2 += 0.00000000027 * Math.cos(0.10827338046 + 17101.4549543907 * t);
-        X2 += 0.00000000029 * Math.cos(5.93234517199 + 27831.79440179969 * t);
-        X2 += 0.00000000029 * Math.cos(2.79075251840 + 27832.2820367667 * t);
-        X2 += 0.00000000027 * Math.cos(4.82458640917 + 31172.8944634665 * t);
-        X2 += 0.00000000027 * Math.cos(0.38322826891 + 3312.4070567155 * t);
-        X2 += 0.00000000026 * Math.cos(5.35970768977 + 7373.62627210991 * t);
-        X2 += 0.00000000033 * Math.cos(4.81267899723 + 5629.2002876947 * t);
-        X2 += 0.00000000027 * Math.cos(5.74554498508 + 3369.3054316511 * t);
-        X2 += 0.00000000027 * Math.cos(4.16679929541 + 15265.64270181689 * t);
-        X2 += 0.00000000034 * Math.cos(1.66093650866 + 28628.5800435831 * t);
-        X2 += 0.00000000027 * Math.cos(1.74573120715 + 19402.55313533309 * t);
-        X2 += 0.00000000027 * Math.cos(0.24189728224 + 29026.7290469913 * t);
-        X2 += 0.00000000026 * Math.cos(0.95064703918 + 16065.82204399129 * t);
-        X2 += 0.00000000026 * Math.cos(0.09426007080 + 21548.7185518083 * t);
-        X2 += 0.00000000028 * Math.cos(3.61885820364 + 3531.81687532789 * t);
-        X2 += 0.00000000033 * Math.cos(0.50594568985 + 3870.0595743109 * t);
-        X2 += 0.00000000025 * Math.cos(1.32229101061 + 12722.7962379687 * t);
-        X2 += 0.00000000024 * Math.cos(5.04445688037 + 22747.04689739089 * t);
-        X2 += 0.00000000025 * Math.cos(2.16587276266 + 2957.4720769931 * t);
-        X2 += 0.00000000032 * Math.cos(0.05221443708 + 12302.8239591265 * t);
-        X2 += 0.00000000023 * Math.cos(6.01606332444 + 20597.4877805247 * t);
-        X2 += 0.00000000026 * Math.cos(0.77786131261 + 3877.6607562787 * t);
-        X2 += 0.00000000025 * Math.cos(0.88197322398 + 27433.64539839149 * t);
-        X2 += 0.00000000022 * Math.cos(2.17540514796 + 17654.5367222661 * t);
-        X2 += 0.00000000021 * Math.cos(1.97613972525 + 5085.2822285985 * t);
-        X2 += 0.00000000022 * Math.cos(4.45819756524 + 13745.10242153889 * t);
-        X2 += 0.00000000023 * Math.cos(4.28492772247 + 3325.6037729983 * t);
-        X2 += 0.00000000022 * Math.cos(2.49953342580 + 10714.23869880971 * t);
-        X2 += 0.00000000023 * Math.cos(1.84356256708 + 3356.10871536831 * t);
-        X2 += 0.00000000022 * Math.cos(4.79335421406 + 13916.2629271251 * t);
-        X2 += 0.00000000020 * Math.cos(0.07454477807 + 13518.1139237169 * t);
-        X2 += 0.00000000020 * Math.cos(0.61605943900 + 14054.36349054249 * t);
-        X2 += 0.00000000020 * Math.cos(0.61605943900 + 14054.8511255095 * t);
-        X2 += 0.00000000020 * Math.cos(5.18934224543 + 14071.19569159229 * t);
-        X2 += 0.00000000021 * Math.cos(1.21172782919 + 20354.27154158369 * t);
-        X2 += 0.00000000027 * Math.cos(1.65038286221 + 23694.8839682835 * t);
-        X2 += 0.00000000027 * Math.cos(3.71231869252 + 11925.03027511709 * t);
-        X2 += 0.00000000023 * Math.cos(3.11201039786 + 1588.82907780029 * t);
-        X2 += 0.00000000020 * Math.cos(6.21683766974 + 2817.7911911225 * t);
-        X2 += 0.00000000020 * Math.cos(3.92465652923 + 29977.95981827489 * t);
-        X2 += 0.00000000019 * Math.cos(0.91394718054 + 27035.9840299503 * t);
-        X2 += 0.00000000020 * Math.cos(5.18320463527 + 9381.2034902007 * t);
-        X2 += 0.00000000020 * Math.cos(3.28496788336 + 1063.14886602171 * t);
-        X2 += 0.00000000020 * Math.cos(3.64150715316 + 36659.6723066415 * t);
-        X2 += 0.00000000021 * Math.cos(1.85047642439 + 10596.4258959177 * t);
-        X2 += 0.00000000019 * Math.cos(5.49838475903 + 3340.43591951909 * t);
-        X2 += 0.00000000020 * Math.cos(3.94260953954 + 34911.6558935745 * t);
-        X2 += 0.00000000019 * Math.cos(1.47273454627 + 23539.9512038163 * t);
-        X2 += 0.00000000019 * Math.cos(4.12041236337 + 40000.2847333413 * t);
-        X2 += 0.00000000020 * Math.cos(0.43561923981 + 2803.56409712089 * t);
-        X2 += 0.00000000024 * Math.cos(2.07709746581 + 9225.29545579949 * t);
-        X2 += 0.00000000024 * Math.cos(1.38288674852 + 30376.5964566501 * t);
-        X2 += 0.00000000022 * Math.cos(5.18167767699 + 537.0483295789 * t);
-        X2 += 0.00000000019 * Math.cos(6.22455531250 + 30774.7454600583 * t);
-        X2 += 0.00000000024 * Math.cos(4.96348676377 + 21946.86755521649 * t);
-        X2 += 0.00000000020 * Math.cos(5.27217035189 + 10787.3865270623 * t);
-        X2 += 0.00000000018 * Math.cos(2.50890520490 + 23938.1002072245 * t);
-        X2 += 0.00000000018 * Math.cos(2.22783415294 + 2487.6598624313 * t);
-        X2 += 0.00000000018 * Math.cos(1.88162325221 + 24491.18197509989 * t);
-        X2 += 0.00000000021 * Math.cos(2.34416498409 + 522.8212355773 * t);
-        X2 += 0.00000000023 * Math.cos(0.88923789924 + 37455.9703134579 * t);
-        X2 += 0.00000000024 * Math.cos(5.88546419101 + 3077.77232081051 * t);
-        X2 += 0.00000000018 * Math.cos(5.95267160454 + 18208.1061251085 * t);
-        X2 += 0.00000000024 * Math.cos(5.81264582562 + 4393.1246273717 * t);
-        X2 += 0.00000000022 * Math.cos(3.63700445171 + 13915.77529215809 * t);
-        X2 += 0.00000000020 * Math.cos(5.90812888983 + 3340.3012989135 * t);
-        X2 += 0.00000000017 * Math.cos(3.57017871636 + 22345.0165586247 * t);
-        X2 += 0.00000000018 * Math.cos(3.83484681339 + 3492.7535252685 * t);
-        X2 += 0.00000000018 * Math.cos(2.28892010525 + 3188.95896309811 * t);
-        X2 += 0.00000000017 * Math.cos(0.73986431664 + 17013.65911488389 * t);
-        X2 += 0.00000000017 * Math.cos(4.16857207200 + 28229.94340520789 * t);
-        X2 += 0.00000000017 * Math.cos(4.56595596791 + 8186.2688450091 * t);
-        X2 += 0.00000000017 * Math.cos(2.84716533138 + 5618.5636223449 * t);
-        X2 += 0.00000000016 * Math.cos(2.75060309814 + 29978.4474532419 * t);
-        X2 += 0.00000000016 * Math.cos(3.77900213334 + 10448.6792884589 * t);
-        X2 += 0.00000000022 * Math.cos(0.24435502443 + 3603.9401675561 * t);
-        X2 += 0.00000000021 * Math.cos(3.48477603406 + 26637.34739157509 * t);
-        X2 += 0.00000000015 * Math.cos(2.15480342032 + 11371.4608722747 * t);
-        X2 += 0.00000000018 * Math.cos(2.23032843213 + 18451.3223640495 * t);
-        X2 += 0.00000000015 * Math.cos(5.97010854409 + 23546.9974405143 * t);
-        X2 += 0.00000000020 * Math.cos(3.19548468220 + 33319.0598799417 * t);
-        X2 += 0.00000000015 * Math.cos(2.57021608840 + 17277.6507493173 * t);
-        X2 += 0.00000000020 * Math.cos(5.73090127884 + 20043.43074271529 * t);
-        return X2 * t * t;
-    }
-
-
-    static double X3(double t) // 192 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00001905181 * Math.cos(0.55093544444 + 0.2438174835 * t);
-        X3 += 0.00000638154 * Math.cos(1.43815993842 + 6681.46867088311 * t);
-        X3 += 0.00000315844 * Math.cos(2.25892403607 + 10022.0810975829 * t);
-        X3 += 0.00000167935 * Math.cos(2.76973197145 + 3340.36860921629 * t);
-        X3 += 0.00000088045 * Math.cos(2.71691445968 + 13362.6935242827 * t);
-        X3 += 0.00000034296 * Math.cos(1.41715335205 + 3340.8562441833 * t);
-        X3 += 0.00000019004 * Math.cos(3.10474615459 + 16703.3059509825 * t);
-        X3 += 0.00000017309 * Math.cos(3.53485555448 + 3496.2766436175 * t);
-        X3 += 0.00000017052 * Math.cos(5.71088724992 + 3185.43584474911 * t);
-        X3 += 0.00000012081 * Math.cos(2.98816202142 + 6680.98103591609 * t);
-        X3 += 0.00000008036 * Math.cos(6.01800755163 + 3337.33312583431 * t);
-        X3 += 0.00000008075 * Math.cos(2.89215175615 + 3344.3793625323 * t);
-        X3 += 0.00000003586 * Math.cos(3.46976109002 + 20043.9183776823 * t);
-        X3 += 0.00000003728 * Math.cos(4.30810867123 + 3583.5848481573 * t);
-        X3 += 0.00000003708 * Math.cos(4.94088205435 + 3098.1276402093 * t);
-        X3 += 0.00000002838 * Math.cos(3.43415575124 + 6684.9917892321 * t);
-        X3 += 0.00000002391 * Math.cos(6.07237527440 + 6526.04827144891 * t);
-        X3 += 0.00000002389 * Math.cos(2.12960839543 + 3894.4256470257 * t);
-        X3 += 0.00000002358 * Math.cos(0.82395288049 + 2787.2868413409 * t);
-        X3 += 0.00000002166 * Math.cos(4.15770883257 + 155.17658195069 * t);
-        X3 += 0.00000001411 * Math.cos(3.32468261407 + 10021.5934626159 * t);
-        X3 += 0.00000001300 * Math.cos(0.72724281150 + 4292.5746504339 * t);
-        X3 += 0.00000001268 * Math.cos(2.20906408368 + 2389.1378379327 * t);
-        X3 += 0.00000001168 * Math.cos(1.89867328281 + 3149.4079780717 * t);
-        X3 += 0.00000001170 * Math.cos(0.77806649581 + 3532.3045102949 * t);
-        X3 += 0.00000001149 * Math.cos(1.82712058880 + 4137.1542509997 * t);
-        X3 += 0.00000001000 * Math.cos(2.35347706930 + 3339.8759231151 * t);
-        X3 += 0.00000001053 * Math.cos(0.86855974610 + 2544.5582373669 * t);
-        X3 += 0.00000000909 * Math.cos(5.60595748036 + 4690.7236538421 * t);
-        X3 += 0.00000000997 * Math.cos(0.51493534476 + 3341.83656525151 * t);
-        X3 += 0.00000000874 * Math.cos(3.57638185545 + 1990.9888345245 * t);
-        X3 += 0.00000000773 * Math.cos(3.83045600398 + 10025.6042159319 * t);
-        X3 += 0.00000000800 * Math.cos(3.22880764813 + 3723.7527764065 * t);
-        X3 += 0.00000000785 * Math.cos(5.96799151563 + 2957.9597119601 * t);
-        X3 += 0.00000000624 * Math.cos(3.82443513781 + 23384.5308043821 * t);
-        X3 += 0.00000000586 * Math.cos(5.53512020922 + 1059.6257476727 * t);
-        X3 += 0.00000000721 * Math.cos(0.50440664244 + 4535.3032544079 * t);
-        X3 += 0.00000000636 * Math.cos(4.17907998332 + 5088.8726572503 * t);
-        X3 += 0.00000000615 * Math.cos(2.33680720167 + 2146.4092339587 * t);
-        X3 += 0.00000000474 * Math.cos(5.37074646349 + 2942.7072407751 * t);
-        X3 += 0.00000000604 * Math.cos(4.91081510372 + 1592.8398311163 * t);
-        X3 += 0.00000000450 * Math.cos(1.89317206758 + 3333.7426971825 * t);
-        X3 += 0.00000000486 * Math.cos(2.92245527853 + 3739.0052475915 * t);
-        X3 += 0.00000000417 * Math.cos(1.04177275312 + 3347.96979118411 * t);
-        X3 += 0.00000000400 * Math.cos(0.45853342120 + 4400.2381743725 * t);
-        X3 += 0.00000000374 * Math.cos(3.38310907177 + 6836.8890703173 * t);
-        X3 += 0.00000000488 * Math.cos(4.66492474940 + 6924.1972748571 * t);
-        X3 += 0.00000000399 * Math.cos(2.43777775214 + 6490.0204047715 * t);
-        X3 += 0.00000000356 * Math.cos(1.18950177450 + 6127.8992680407 * t);
-        X3 += 0.00000000362 * Math.cos(2.14655068421 + 5622.08674069391 * t);
-        X3 += 0.00000000295 * Math.cos(3.68111290408 + 7079.61767429131 * t);
-        X3 += 0.00000000356 * Math.cos(0.14502929692 + 9866.66069814871 * t);
-        X3 += 0.00000000340 * Math.cos(2.28749442266 + 7477.7666776995 * t);
-        X3 += 0.00000000239 * Math.cos(5.17898361533 + 6438.7400669091 * t);
-        X3 += 0.00000000214 * Math.cos(0.95650348151 + 6682.44899195131 * t);
-        X3 += 0.00000000184 * Math.cos(3.67133608119 + 13362.2058893157 * t);
-        X3 += 0.00000000176 * Math.cos(3.96314611309 + 5331.6012612243 * t);
-        X3 += 0.00000000215 * Math.cos(2.58410594073 + 5729.7502646325 * t);
-        X3 += 0.00000000159 * Math.cos(5.31902457668 + 4933.4522578161 * t);
-        X3 += 0.00000000148 * Math.cos(0.07133203651 + 6298.57213865991 * t);
-        X3 += 0.00000000154 * Math.cos(5.64200281325 + 6677.9455525341 * t);
-        X3 += 0.00000000153 * Math.cos(0.89551511976 + 7875.91568110771 * t);
-        X3 += 0.00000000157 * Math.cos(6.03012929865 + 796.5418242999 * t);
-        X3 += 0.00000000172 * Math.cos(4.18899228750 + 13366.21664263171 * t);
-        X3 += 0.00000000143 * Math.cos(2.39578247400 + 7235.0380737255 * t);
-        X3 += 0.00000000155 * Math.cos(0.96938893909 + 7740.8506010723 * t);
-        X3 += 0.00000000116 * Math.cos(4.64918761388 + 1194.6908277081 * t);
-        X3 += 0.00000000106 * Math.cos(3.00887462201 + 155.6642169177 * t);
-        X3 += 0.00000000089 * Math.cos(4.02630363689 + 3343.8917275653 * t);
-        X3 += 0.00000000100 * Math.cos(2.87689937674 + 9830.6328314713 * t);
-        X3 += 0.00000000108 * Math.cos(4.17718423869 + 10420.23010099111 * t);
-        X3 += 0.00000000084 * Math.cos(2.68446580877 + 10818.3791043993 * t);
-        X3 += 0.00000000098 * Math.cos(4.17525996193 + 26725.1432310819 * t);
-        X3 += 0.00000000076 * Math.cos(0.87920756584 + 4929.92913946711 * t);
-        X3 += 0.00000000074 * Math.cos(1.00299622836 + 7633.1870771337 * t);
-        X3 += 0.00000000086 * Math.cos(5.15622842132 + 1589.3167127673 * t);
-        X3 += 0.00000000072 * Math.cos(6.20405951094 + 5885.1706640667 * t);
-        X3 += 0.00000000062 * Math.cos(1.68960801507 + 5487.0216606585 * t);
-        X3 += 0.00000000065 * Math.cos(5.02060335506 + 10264.80970155691 * t);
-        X3 += 0.00000000062 * Math.cos(3.09389208181 + 7211.1596359777 * t);
-        X3 += 0.00000000082 * Math.cos(1.44324153466 + 6688.5822178839 * t);
-        X3 += 0.00000000057 * Math.cos(4.66555911574 + 12833.00255918811 * t);
-        X3 += 0.00000000057 * Math.cos(1.54372665386 + 9468.51169474051 * t);
-        X3 += 0.00000000056 * Math.cos(5.13139205932 + 6681.45141723091 * t);
-        X3 += 0.00000000056 * Math.cos(0.87897817015 + 6681.4859245353 * t);
-        X3 += 0.00000000069 * Math.cos(2.58172462044 + 796.0541893329 * t);
-        X3 += 0.00000000065 * Math.cos(1.91690600798 + 3870.54720927791 * t);
-        X3 += 0.00000000067 * Math.cos(3.74829679592 + 9492.3901324883 * t);
-        X3 += 0.00000000051 * Math.cos(5.79032862137 + 8274.0646845159 * t);
-        X3 += 0.00000000048 * Math.cos(3.88765170229 + 397.9051859247 * t);
-        X3 += 0.00000000050 * Math.cos(0.50123821286 + 13207.27312484851 * t);
-        X3 += 0.00000000043 * Math.cos(5.49155036342 + 426.8420083595 * t);
-        X3 += 0.00000000044 * Math.cos(5.87908345436 + 8031.3360805419 * t);
-        X3 += 0.00000000039 * Math.cos(1.20945071946 + 1194.2031927411 * t);
-        X3 += 0.00000000043 * Math.cos(1.35709156628 + 10023.06141865111 * t);
-        X3 += 0.00000000044 * Math.cos(0.94709794694 + 5092.3957755993 * t);
-        X3 += 0.00000000037 * Math.cos(0.18533157058 + 8827.6340873583 * t);
-        X3 += 0.00000000042 * Math.cos(1.70772874502 + 10022.0983512351 * t);
-        X3 += 0.00000000043 * Math.cos(0.30947981672 + 3184.9482097821 * t);
-        X3 += 0.00000000033 * Math.cos(2.40776286352 + 1349.62359217529 * t);
-        X3 += 0.00000000035 * Math.cos(2.95444208499 + 9070.3626913323 * t);
-        X3 += 0.00000000036 * Math.cos(1.36035547703 + 11081.46302777211 * t);
-        X3 += 0.00000000044 * Math.cos(0.12174745615 + 12303.3115940935 * t);
-        X3 += 0.00000000033 * Math.cos(0.88839870426 + 15643.9240207933 * t);
-        X3 += 0.00000000042 * Math.cos(5.96028045375 + 10022.06384393071 * t);
-        X3 += 0.00000000032 * Math.cos(5.66439939781 + 10018.5579792339 * t);
-        X3 += 0.00000000029 * Math.cos(1.54951760073 + 3495.78900865049 * t);
-        X3 += 0.00000000032 * Math.cos(2.40303298785 + 6680.4883498149 * t);
-        X3 += 0.00000000031 * Math.cos(1.90739176085 + 7.3573644843 * t);
-        X3 += 0.00000000036 * Math.cos(3.46372584197 + 7064.3652031063 * t);
-        X3 += 0.00000000026 * Math.cos(1.27046456409 + 11216.5281078075 * t);
-        X3 += 0.00000000035 * Math.cos(4.70034992379 + 3336.8454908673 * t);
-        X3 += 0.00000000025 * Math.cos(3.03604811102 + 10575.6505004253 * t);
-        X3 += 0.00000000033 * Math.cos(4.36445511764 + 8672.21368792411 * t);
-        X3 += 0.00000000026 * Math.cos(5.99843166178 + 1592.3521961493 * t);
-        X3 += 0.00000000027 * Math.cos(3.98200757587 + 16702.81831601549 * t);
-        X3 += 0.00000000025 * Math.cos(4.57948088729 + 13760.8425276909 * t);
-        X3 += 0.00000000027 * Math.cos(3.09776670837 + 191.2044486281 * t);
-        X3 += 0.00000000026 * Math.cos(3.54518463791 + 6894.76776632111 * t);
-        X3 += 0.00000000023 * Math.cos(5.85147228213 + 2281.4743139941 * t);
-        X3 += 0.00000000027 * Math.cos(4.51774923051 + 16706.8290693315 * t);
-        X3 += 0.00000000026 * Math.cos(5.53508596353 + 8433.00820229911 * t);
-        X3 += 0.00000000028 * Math.cos(3.36273080390 + 9623.9320941747 * t);
-        X3 += 0.00000000027 * Math.cos(5.85014917702 + 2145.92159899169 * t);
-        X3 += 0.00000000024 * Math.cos(1.25782822684 + 8270.5415661669 * t);
-        X3 += 0.00000000026 * Math.cos(1.08150011094 + 1747.7725955835 * t);
-        X3 += 0.00000000022 * Math.cos(0.90453576854 + 3767.4544350593 * t);
-        X3 += 0.00000000025 * Math.cos(3.82100205156 + 2811.1652790887 * t);
-        X3 += 0.00000000020 * Math.cos(1.64178140869 + 3554.1553396213 * t);
-        X3 += 0.00000000019 * Math.cos(4.46076005938 + 3127.5571487453 * t);
-        X3 += 0.00000000022 * Math.cos(5.17308651919 + 553.32558535889 * t);
-        X3 += 0.00000000023 * Math.cos(3.76515587292 + 951.4745887671 * t);
-        X3 += 0.00000000019 * Math.cos(1.67275856465 + 553.8132203259 * t);
-        X3 += 0.00000000026 * Math.cos(0.16277946818 + 8962.6991673937 * t);
-        X3 += 0.00000000020 * Math.cos(0.43011448080 + 9639.18456535971 * t);
-        X3 += 0.00000000019 * Math.cos(4.43079189104 + 2810.6776441217 * t);
-        X3 += 0.00000000021 * Math.cos(0.21950833051 + 951.9622237341 * t);
-        X3 += 0.00000000017 * Math.cos(3.25327411593 + 13171.2452581711 * t);
-        X3 += 0.00000000022 * Math.cos(4.38492748210 + 3738.51761262449 * t);
-        X3 += 0.00000000019 * Math.cos(3.21726717973 + 6681.40136058031 * t);
-        X3 += 0.00000000022 * Math.cos(1.65280044894 + 10973.7995038335 * t);
-        X3 += 0.00000000016 * Math.cos(2.94665873224 + 4136.66661603269 * t);
-        X3 += 0.00000000019 * Math.cos(2.80877068966 + 6681.5359811859 * t);
-        X3 += 0.00000000021 * Math.cos(2.92855757827 + 1748.2602305505 * t);
-        X3 += 0.00000000017 * Math.cos(5.71391599259 + 382.6527147397 * t);
-        X3 += 0.00000000020 * Math.cos(0.18316423734 + 2280.98667902709 * t);
-        X3 += 0.00000000022 * Math.cos(4.74779376737 + 1350.1112271423 * t);
-        X3 += 0.00000000016 * Math.cos(0.63462673047 + 6254.8704800071 * t);
-        X3 += 0.00000000016 * Math.cos(3.93662181429 + 10551.7720626775 * t);
-        X3 += 0.00000000015 * Math.cos(3.10357108475 + 10177.5014970171 * t);
-        X3 += 0.00000000014 * Math.cos(5.09381800673 + 2914.2580533073 * t);
-        X3 += 0.00000000014 * Math.cos(1.36653791314 + 5459.6201045617 * t);
-        X3 += 0.00000000019 * Math.cos(4.60528090517 + 1990.5011995575 * t);
-        X3 += 0.00000000014 * Math.cos(1.82944391532 + 10029.1946445837 * t);
-        X3 += 0.00000000013 * Math.cos(4.04119501897 + 5614.9731936931 * t);
-        X3 += 0.00000000015 * Math.cos(2.66542384043 + 6674.3551238823 * t);
-        X3 += 0.00000000013 * Math.cos(1.51732945573 + 1066.7392946735 * t);
-        X3 += 0.00000000016 * Math.cos(4.23161759812 + 640.1411037975 * t);
-        X3 += 0.00000000013 * Math.cos(3.65983424195 + 5621.5991057269 * t);
-        X3 += 0.00000000013 * Math.cos(1.47843905604 + 242.97242145751 * t);
-        X3 += 0.00000000014 * Math.cos(0.24731425362 + 12310.42514109431 * t);
-        X3 += 0.00000000013 * Math.cos(0.42091404951 + 191.6920835951 * t);
-        X3 += 0.00000000011 * Math.cos(3.19331361004 + 2388.6502029657 * t);
-        X3 += 0.00000000012 * Math.cos(3.12268751453 + 3148.9203431047 * t);
-        X3 += 0.00000000013 * Math.cos(5.43821523436 + 2119.00767786191 * t);
-        X3 += 0.00000000011 * Math.cos(5.19736362540 + 3583.0972131903 * t);
-        X3 += 0.00000000011 * Math.cos(1.99832694470 + 3340.38586286849 * t);
-        X3 += 0.00000000010 * Math.cos(1.49714805225 + 4534.81561944089 * t);
-        X3 += 0.00000000011 * Math.cos(6.25129481290 + 3340.3513555641 * t);
-        X3 += 0.00000000010 * Math.cos(4.88853298993 + 8429.4850839501 * t);
-        X3 += 0.00000000010 * Math.cos(3.31545628452 + 10014.9675505821 * t);
-        X3 += 0.00000000009 * Math.cos(3.88123559083 + 3320.50092478451 * t);
-        X3 += 0.00000000011 * Math.cos(4.66037741803 + 8962.2115324267 * t);
-        X3 += 0.00000000009 * Math.cos(2.24701790497 + 3361.2115635821 * t);
-        X3 += 0.00000000009 * Math.cos(4.10537369930 + 12296.1980470927 * t);
-        X3 += 0.00000000010 * Math.cos(5.06205358587 + 16173.6149858879 * t);
-        X3 += 0.00000000009 * Math.cos(2.02386810043 + 1052.51220067191 * t);
-        X3 += 0.00000000009 * Math.cos(3.68063634198 + 5614.48555872609 * t);
-        X3 += 0.00000000010 * Math.cos(1.99400297925 + 529.9347825781 * t);
-        X3 += 0.00000000008 * Math.cos(6.05827415687 + 3893.93801205869 * t);
-        X3 += 0.00000000009 * Math.cos(5.82204012446 + 3325.6037729983 * t);
-        X3 += 0.00000000008 * Math.cos(1.82638763774 + 2786.7992063739 * t);
-        X3 += 0.00000000009 * Math.cos(0.30647315712 + 3356.10871536831 * t);
-        X3 += 0.00000000011 * Math.cos(4.85651046171 + 242.4847864905 * t);
-        X3 += 0.00000000009 * Math.cos(1.42556082626 + 1751.7833488995 * t);
-        X3 += 0.00000000007 * Math.cos(0.31910199684 + 2957.4720769931 * t);
-        X3 += 0.00000000008 * Math.cos(4.58643573119 + 4292.0870154669 * t);
-        X3 += 0.00000000007 * Math.cos(3.02875762795 + 14158.9915310991 * t);
-        X3 += 0.00000000010 * Math.cos(3.75880088864 + 529.44714761109 * t);
-        X3 += 0.00000000010 * Math.cos(4.75162534448 + 12302.8239591265 * t);
-        X3 += 0.00000000009 * Math.cos(4.40822524545 + 6684.5041542651 * t);
-        X3 += 0.00000000008 * Math.cos(5.21609653228 + 2273.8731320263 * t);
-        return X3 * t * t * t;
-    }
-
-
-    static double X4(double t) // 81 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00000174339 * Math.cos(4.50461485471 + 3340.8562441833 * t);
-        X4 += 0.00000065332 * Math.cos(1.45277537677 + 0.2438174835 * t);
-        X4 += 0.00000021612 * Math.cos(5.47577416210 + 6681.46867088311 * t);
-        X4 += 0.00000012491 * Math.cos(0.51687441739 + 10022.0810975829 * t);
-        X4 += 0.00000005152 * Math.cos(1.11384612445 + 13362.6935242827 * t);
-        X4 += 0.00000002432 * Math.cos(5.03376242803 + 3496.2766436175 * t);
-        X4 += 0.00000002407 * Math.cos(4.19068604389 + 3185.43584474911 * t);
-        X4 += 0.00000001485 * Math.cos(1.55324524407 + 16703.3059509825 * t);
-        X4 += 0.00000001453 * Math.cos(1.17593053226 + 3340.36860921629 * t);
-        X4 += 0.00000000592 * Math.cos(2.79217502706 + 3583.5848481573 * t);
-        X4 += 0.00000000596 * Math.cos(0.15627931299 + 3098.1276402093 * t);
-        X4 += 0.00000000649 * Math.cos(1.53914017168 + 6680.98103591609 * t);
-        X4 += 0.00000000380 * Math.cos(4.55600229997 + 6526.04827144891 * t);
-        X4 += 0.00000000351 * Math.cos(1.94518064214 + 20043.9183776823 * t);
-        X4 += 0.00000000281 * Math.cos(1.02784973125 + 3344.3793625323 * t);
-        X4 += 0.00000000275 * Math.cos(1.11119927155 + 3337.33312583431 * t);
-        X4 += 0.00000000287 * Math.cos(3.61921656726 + 3894.4256470257 * t);
-        X4 += 0.00000000285 * Math.cos(5.58839678189 + 2787.2868413409 * t);
-        X4 += 0.00000000151 * Math.cos(1.78910865682 + 6684.9917892321 * t);
-        X4 += 0.00000000128 * Math.cos(5.24790443912 + 6836.8890703173 * t);
-        X4 += 0.00000000111 * Math.cos(1.85011350887 + 10021.5934626159 * t);
-        X4 += 0.00000000088 * Math.cos(3.15545951202 + 6924.1972748571 * t);
-        X4 += 0.00000000071 * Math.cos(2.31380588062 + 23384.5308043821 * t);
-        X4 += 0.00000000055 * Math.cos(2.26852590135 + 10025.6042159319 * t);
-        X4 += 0.00000000048 * Math.cos(5.95592456117 + 6127.8992680407 * t);
-        X4 += 0.00000000063 * Math.cos(4.91767924460 + 9866.66069814871 * t);
-        X4 += 0.00000000034 * Math.cos(0.35023274977 + 6438.7400669091 * t);
-        X4 += 0.00000000033 * Math.cos(3.27139275821 + 1059.6257476727 * t);
-        X4 += 0.00000000019 * Math.cos(2.14803379863 + 13362.2058893157 * t);
-        X4 += 0.00000000018 * Math.cos(0.78782665763 + 6490.0204047715 * t);
-        X4 += 0.00000000016 * Math.cos(5.21278468290 + 3149.4079780717 * t);
-        X4 += 0.00000000016 * Math.cos(5.81489292910 + 2942.7072407751 * t);
-        X4 += 0.00000000015 * Math.cos(0.86980577909 + 3532.3045102949 * t);
-        X4 += 0.00000000015 * Math.cos(1.05784197172 + 2544.5582373669 * t);
-        X4 += 0.00000000014 * Math.cos(2.75650621307 + 5622.08674069391 * t);
-        X4 += 0.00000000014 * Math.cos(0.20093505699 + 3739.0052475915 * t);
-        X4 += 0.00000000013 * Math.cos(4.83578063472 + 4400.2381743725 * t);
-        X4 += 0.00000000013 * Math.cos(5.02472221311 + 4137.1542509997 * t);
-        X4 += 0.00000000012 * Math.cos(3.15784569291 + 1194.6908277081 * t);
-        X4 += 0.00000000012 * Math.cos(5.66215318851 + 6682.44899195131 * t);
-        X4 += 0.00000000015 * Math.cos(0.65316905429 + 7477.7666776995 * t);
-        X4 += 0.00000000011 * Math.cos(1.92062639148 + 7079.61767429131 * t);
-        X4 += 0.00000000015 * Math.cos(5.27033110100 + 529.9347825781 * t);
-        X4 += 0.00000000013 * Math.cos(5.72126392176 + 10177.5014970171 * t);
-        X4 += 0.00000000014 * Math.cos(3.84659935898 + 7235.0380737255 * t);
-        X4 += 0.00000000011 * Math.cos(3.51933198406 + 10264.80970155691 * t);
-        X4 += 0.00000000013 * Math.cos(2.66285978116 + 13366.21664263171 * t);
-        X4 += 0.00000000010 * Math.cos(4.52594962497 + 796.5418242999 * t);
-        X4 += 0.00000000010 * Math.cos(2.37075551462 + 5331.6012612243 * t);
-        X4 += 0.00000000012 * Math.cos(1.03827349416 + 5729.7502646325 * t);
-        X4 += 0.00000000011 * Math.cos(2.64809487107 + 26725.1432310819 * t);
-        X4 += 0.00000000008 * Math.cos(4.81245299131 + 6298.57213865991 * t);
-        X4 += 0.00000000008 * Math.cos(3.95118300322 + 3340.8734978355 * t);
-        X4 += 0.00000000008 * Math.cos(1.92041137172 + 3340.83899053111 * t);
-        X4 += 0.00000000007 * Math.cos(0.43533123258 + 1990.9888345245 * t);
-        X4 += 0.00000000009 * Math.cos(3.50915514440 + 2280.98667902709 * t);
-        X4 += 0.00000000007 * Math.cos(5.60821148288 + 7875.91568110771 * t);
-        X4 += 0.00000000008 * Math.cos(3.59280368451 + 4933.4522578161 * t);
-        X4 += 0.00000000007 * Math.cos(5.32208951844 + 2389.1378379327 * t);
-        X4 += 0.00000000009 * Math.cos(1.82497486389 + 1592.8398311163 * t);
-        X4 += 0.00000000007 * Math.cos(2.39846706486 + 3339.8759231151 * t);
-        X4 += 0.00000000007 * Math.cos(3.71269284859 + 3341.83656525151 * t);
-        X4 += 0.00000000007 * Math.cos(2.58444553246 + 3343.8917275653 * t);
-        X4 += 0.00000000006 * Math.cos(0.55736215127 + 6151.7777057885 * t);
-        X4 += 0.00000000007 * Math.cos(5.10772331644 + 3184.9482097821 * t);
-        X4 += 0.00000000007 * Math.cos(1.05272897981 + 155.17658195069 * t);
-        X4 += 0.00000000006 * Math.cos(3.65850030907 + 1589.3167127673 * t);
-        X4 += 0.00000000005 * Math.cos(2.88251144144 + 5487.0216606585 * t);
-        X4 += 0.00000000005 * Math.cos(1.46784159994 + 5885.1706640667 * t);
-        X4 += 0.00000000005 * Math.cos(0.80161683332 + 4292.5746504339 * t);
-        X4 += 0.00000000006 * Math.cos(2.45234336003 + 2146.4092339587 * t);
-        X4 += 0.00000000005 * Math.cos(5.68329332382 + 4690.7236538421 * t);
-        X4 += 0.00000000005 * Math.cos(2.80269016526 + 2957.9597119601 * t);
-        X4 += 0.00000000004 * Math.cos(5.28325791601 + 13207.27312484851 * t);
-        X4 += 0.00000000005 * Math.cos(3.64094054061 + 4535.3032544079 * t);
-        X4 += 0.00000000004 * Math.cos(3.31472278070 + 3723.7527764065 * t);
-        X4 += 0.00000000005 * Math.cos(4.28302336857 + 5088.8726572503 * t);
-        X4 += 0.00000000004 * Math.cos(0.05439896723 + 9468.51169474051 * t);
-        X4 += 0.00000000004 * Math.cos(5.79414027536 + 398.3928208917 * t);
-        X4 += 0.00000000003 * Math.cos(6.01492767118 + 3870.54720927791 * t);
-        X4 += 0.00000000003 * Math.cos(5.81270604686 + 7633.1870771337 * t);
-        return X4 * t * t * t * t;
-    }
-
-
-    static double X5(double t) // 26 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000002822 * Math.cos(2.53736821761 + 0.2438174835 * t);
-        X5 += 0.00000001310 * Math.cos(4.62457430290 + 3340.8562441833 * t);
-        X5 += 0.00000000954 * Math.cos(3.55909372543 + 6681.46867088311 * t);
-        X5 += 0.00000000429 * Math.cos(4.88697356497 + 10022.0810975829 * t);
-        X5 += 0.00000000275 * Math.cos(0.24510755091 + 3496.2766436175 * t);
-        X5 += 0.00000000272 * Math.cos(2.66437498180 + 3185.43584474911 * t);
-        X5 += 0.00000000241 * Math.cos(5.73070473130 + 13362.6935242827 * t);
-        X5 += 0.00000000262 * Math.cos(6.24547382421 + 3340.36860921629 * t);
-        X5 += 0.00000000092 * Math.cos(6.24977577619 + 16703.3059509825 * t);
-        X5 += 0.00000000076 * Math.cos(1.27309430645 + 3583.5848481573 * t);
-        X5 += 0.00000000077 * Math.cos(1.65718815142 + 3098.1276402093 * t);
-        X5 += 0.00000000049 * Math.cos(3.03838424904 + 6526.04827144891 * t);
-        X5 += 0.00000000032 * Math.cos(0.11875540710 + 6680.98103591609 * t);
-        X5 += 0.00000000026 * Math.cos(0.39487275836 + 20043.9183776823 * t);
-        X5 += 0.00000000027 * Math.cos(5.12576113855 + 3894.4256470257 * t);
-        X5 += 0.00000000026 * Math.cos(4.04351110154 + 2787.2868413409 * t);
-        X5 += 0.00000000013 * Math.cos(0.43187059389 + 6836.8890703173 * t);
-        X5 += 0.00000000013 * Math.cos(1.64004823919 + 6924.1972748571 * t);
-        X5 += 0.00000000006 * Math.cos(0.36382978226 + 10021.5934626159 * t);
-        X5 += 0.00000000007 * Math.cos(1.40323245136 + 3337.33312583431 * t);
-        X5 += 0.00000000007 * Math.cos(4.61746707728 + 3344.3793625323 * t);
-        X5 += 0.00000000005 * Math.cos(4.43055095713 + 6127.8992680407 * t);
-        X5 += 0.00000000007 * Math.cos(3.39474539876 + 9866.66069814871 * t);
-        X5 += 0.00000000006 * Math.cos(0.04415481578 + 6684.9917892321 * t);
-        X5 += 0.00000000005 * Math.cos(0.78203649698 + 23384.5308043821 * t);
-        X5 += 0.00000000004 * Math.cos(1.85425114024 + 6438.7400669091 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 1907 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 1.51664432758 * Math.cos(4.63267999004 + 3340.8562441833 * t);
-        Y0 += 0.21337343470 * Math.cos(1.15310710021 + 0.2438174835 * t);
-        Y0 += 0.07067734657 * Math.cos(4.97080577669 + 6681.46867088311 * t);
-        Y0 += 0.00494034875 * Math.cos(5.30892921206 + 10022.0810975829 * t);
-        Y0 += 0.00135189385 * Math.cos(2.16683537182 + 3340.36860921629 * t);
-        Y0 += 0.00040927830 * Math.cos(5.64705236353 + 13362.6935242827 * t);
-        Y0 += 0.00021051988 * Math.cos(0.23298189024 + 3337.33312583431 * t);
-        Y0 += 0.00021027270 * Math.cos(5.89078683719 + 3344.3793625323 * t);
-        Y0 += 0.00011370204 * Math.cos(3.26158494021 + 1059.6257476727 * t);
-        Y0 += 0.00013426076 * Math.cos(5.34254489555 + 529.9347825781 * t);
-        Y0 += 0.00006769403 * Math.cos(2.04649779939 + 3340.83899053111 * t);
-        Y0 += 0.00006769355 * Math.cos(4.07726943088 + 3340.8734978355 * t);
-        Y0 += 0.00008285925 * Math.cos(3.43188641054 + 2280.98667902709 * t);
-        Y0 += 0.00005433910 * Math.cos(5.83045260147 + 2942.7072407751 * t);
-        Y0 += 0.00004813330 * Math.cos(0.27943415467 + 3739.0052475915 * t);
-        Y0 += 0.00004893493 * Math.cos(2.85680765111 + 5622.08674069391 * t);
-        Y0 += 0.00005269759 * Math.cos(0.75939928833 + 6151.7777057885 * t);
-        Y0 += 0.00003774767 * Math.cos(2.39590149517 + 6680.98103591609 * t);
-        Y0 += 0.00003623045 * Math.cos(4.53783234193 + 796.5418242999 * t);
-        Y0 += 0.00003725058 * Math.cos(5.98517547467 + 16703.3059509825 * t);
-        Y0 += 0.00003767289 * Math.cos(5.93443742300 + 398.3928208917 * t);
-        Y0 += 0.00002396177 * Math.cos(5.34735734199 + 3149.4079780717 * t);
-        Y0 += 0.00002262756 * Math.cos(0.77787856455 + 3532.3045102949 * t);
-        Y0 += 0.00001976674 * Math.cos(0.56979018369 + 6677.9455525341 * t);
-        Y0 += 0.00002227632 * Math.cos(0.12453915456 + 3340.78893388051 * t);
-        Y0 += 0.00002227573 * Math.cos(5.99922807490 + 3340.9235544861 * t);
-        Y0 += 0.00001950645 * Math.cos(1.15729484520 + 2544.5582373669 * t);
-        Y0 += 0.00002179897 * Math.cos(0.12455085977 + 6283.3196674749 * t);
-        Y0 += 0.00001684046 * Math.cos(1.57848903772 + 5885.1706640667 * t);
-        Y0 += 0.00002237564 * Math.cos(3.25024245156 + 8962.6991673937 * t);
-        Y0 += 0.00001629438 * Math.cos(4.95303923805 + 4137.1542509997 * t);
-        Y0 += 0.00001957286 * Math.cos(6.23124655952 + 6684.9917892321 * t);
-        Y0 += 0.00001382161 * Math.cos(3.74262124968 + 1751.2957139325 * t);
-        Y0 += 0.00001364523 * Math.cos(5.17298469073 + 2811.1652790887 * t);
-        Y0 += 0.00001285835 * Math.cos(3.13464527657 + 1194.6908277081 * t);
-        Y0 += 0.00001468951 * Math.cos(0.30602473382 + 3870.54720927791 * t);
-        Y0 += 0.00001572210 * Math.cos(3.27704899210 + 1589.3167127673 * t);
-        Y0 += 0.00000955879 * Math.cos(3.79979264711 + 426.8420083595 * t);
-        Y0 += 0.00000819304 * Math.cos(3.58795489460 + 4400.2381743725 * t);
-        Y0 += 0.00000714429 * Math.cos(4.49383093867 + 191.2044486281 * t);
-        Y0 += 0.00000719663 * Math.cos(1.08407118449 + 9492.3901324883 * t);
-        Y0 += 0.00000643260 * Math.cos(2.98709791321 + 5487.0216606585 * t);
-        Y0 += 0.00000795172 * Math.cos(2.82580884918 + 5092.3957755993 * t);
-        Y0 += 0.00000630906 * Math.cos(2.38462144554 + 6681.45141723091 * t);
-        Y0 += 0.00000630906 * Math.cos(4.41539307703 + 6681.4859245353 * t);
-        Y0 += 0.00000782173 * Math.cos(2.73881042817 + 5091.90814063229 * t);
-        Y0 += 0.00000703756 * Math.cos(5.67896443651 + 213.5429129215 * t);
-        Y0 += 0.00000581847 * Math.cos(2.38152204086 + 3185.43584474911 * t);
-        Y0 += 0.00000553454 * Math.cos(3.74330200173 + 3496.2766436175 * t);
-        Y0 += 0.00000663460 * Math.cos(5.31434426935 + 2544.07060239989 * t);
-        Y0 += 0.00000491963 * Math.cos(0.60494800834 + 7079.61767429131 * t);
-        Y0 += 0.00000426327 * Math.cos(0.43687696114 + 2145.92159899169 * t);
-        Y0 += 0.00000533910 * Math.cos(1.72930733886 + 1592.8398311163 * t);
-        Y0 += 0.00000386953 * Math.cos(3.50258018070 + 8433.00820229911 * t);
-        Y0 += 0.00000417478 * Math.cos(2.39346049510 + 3339.8759231151 * t);
-        Y0 += 0.00000417367 * Math.cos(3.73029667099 + 3341.83656525151 * t);
-        Y0 += 0.00000359961 * Math.cos(0.04010115133 + 20043.9183776823 * t);
-        Y0 += 0.00000352641 * Math.cos(2.31813890735 + 6254.8704800071 * t);
-        Y0 += 0.00000351819 * Math.cos(3.59912427222 + 12303.3115940935 * t);
-        Y0 += 0.00000321320 * Math.cos(0.37355501133 + 3554.1553396213 * t);
-        Y0 += 0.00000377309 * Math.cos(2.56396696963 + 2146.4092339587 * t);
-        Y0 += 0.00000307274 * Math.cos(5.65660829568 + 3127.5571487453 * t);
-        Y0 += 0.00000284287 * Math.cos(0.46340069524 + 7.3573644843 * t);
-        Y0 += 0.00000259684 * Math.cos(0.32305651983 + 1990.9888345245 * t);
-        Y0 += 0.00000246886 * Math.cos(1.84243729588 + 1747.7725955835 * t);
-        Y0 += 0.00000313688 * Math.cos(3.53520341472 + 4535.3032544079 * t);
-        Y0 += 0.00000271483 * Math.cos(0.37698651521 + 6468.1695754451 * t);
-        Y0 += 0.00000298122 * Math.cos(4.39537363917 + 5088.8726572503 * t);
-        Y0 += 0.00000223194 * Math.cos(1.98204681533 + 3320.0808486909 * t);
-        Y0 += 0.00000221461 * Math.cos(4.14148614982 + 3361.6316396757 * t);
-        Y0 += 0.00000233899 * Math.cos(0.46609609268 + 9623.9320941747 * t);
-        Y0 += 0.00000207617 * Math.cos(0.46266279560 + 6681.40136058031 * t);
-        Y0 += 0.00000205148 * Math.cos(0.28695974581 + 10025.6042159319 * t);
-        Y0 += 0.00000207784 * Math.cos(0.90748162445 + 10018.5579792339 * t);
-        Y0 += 0.00000193198 * Math.cos(3.36114050168 + 2119.00767786191 * t);
-        Y0 += 0.00000218630 * Math.cos(5.68765119081 + 6490.0204047715 * t);
-        Y0 += 0.00000247990 * Math.cos(2.88872133203 + 2913.7704183403 * t);
-        Y0 += 0.00000207617 * Math.cos(0.05416640875 + 6681.5359811859 * t);
-        Y0 += 0.00000178587 * Math.cos(4.11200624291 + 1221.6047488379 * t);
-        Y0 += 0.00000178400 * Math.cos(2.59904254913 + 10021.5934626159 * t);
-        Y0 += 0.00000164293 * Math.cos(5.80289640537 + 4690.7236538421 * t);
-        Y0 += 0.00000157091 * Math.cos(5.19939410162 + 2389.1378379327 * t);
-        Y0 += 0.00000151308 * Math.cos(3.00360651428 + 4562.2171755377 * t);
-        Y0 += 0.00000177027 * Math.cos(2.69928080706 + 2957.9597119601 * t);
-        Y0 += 0.00000147685 * Math.cos(0.90426952883 + 7211.1596359777 * t);
-        Y0 += 0.00000164646 * Math.cos(5.28805943773 + 7477.7666776995 * t);
-        Y0 += 0.00000153884 * Math.cos(2.87447082637 + 640.1411037975 * t);
-        Y0 += 0.00000157989 * Math.cos(3.42539314748 + 3723.7527764065 * t);
-        Y0 += 0.00000146757 * Math.cos(2.84466358271 + 3337.26581553151 * t);
-        Y0 += 0.00000166434 * Math.cos(1.59845879272 + 10213.5293636945 * t);
-        Y0 += 0.00000146132 * Math.cos(3.27579621025 + 3344.4466728351 * t);
-        Y0 += 0.00000118082 * Math.cos(2.72149356676 + 4562.70481050471 * t);
-        Y0 += 0.00000119770 * Math.cos(3.08805027302 + 11773.6206289989 * t);
-        Y0 += 0.00000113695 * Math.cos(0.92730568398 + 4292.5746504339 * t);
-        Y0 += 0.00000143954 * Math.cos(3.79112207293 + 2787.2868413409 * t);
-        Y0 += 0.00000113828 * Math.cos(1.92140197091 + 3333.7426971825 * t);
-        Y0 += 0.00000112131 * Math.cos(4.78443317220 + 3205.7911641479 * t);
-        Y0 += 0.00000144684 * Math.cos(3.24900405626 + 1349.62359217529 * t);
-        Y0 += 0.00000118108 * Math.cos(3.61481367969 + 4929.92913946711 * t);
-        Y0 += 0.00000106690 * Math.cos(1.33869953850 + 3475.92132421871 * t);
-        Y0 += 0.00000120237 * Math.cos(1.83849834021 + 9225.7830907665 * t);
-        Y0 += 0.00000119599 * Math.cos(2.33508766672 + 3894.4256470257 * t);
-        Y0 += 0.00000104910 * Math.cos(0.80738994994 + 382.6527147397 * t);
-        Y0 += 0.00000095920 * Math.cos(4.24460901134 + 3347.96979118411 * t);
-        Y0 += 0.00000093778 * Math.cos(3.97176912203 + 1748.2602305505 * t);
-        Y0 += 0.00000088754 * Math.cos(1.41602519781 + 12833.00255918811 * t);
-        Y0 += 0.00000112794 * Math.cos(1.18558937662 + 155.17658195069 * t);
-        Y0 += 0.00000091596 * Math.cos(4.65533652150 + 951.4745887671 * t);
-        Y0 += 0.00000086667 * Math.cos(5.15042860741 + 3098.1276402093 * t);
-        Y0 += 0.00000118500 * Math.cos(2.09460100184 + 7902.8296022375 * t);
-        Y0 += 0.00000089906 * Math.cos(3.86574614268 + 2942.21960580809 * t);
-        Y0 += 0.00000085205 * Math.cos(2.64363572803 + 2281.4743139941 * t);
-        Y0 += 0.00000113660 * Math.cos(0.87318331181 + 5486.53402569149 * t);
-        Y0 += 0.00000080640 * Math.cos(0.97118273790 + 3583.5848481573 * t);
-        Y0 += 0.00000085344 * Math.cos(2.11418392564 + 4933.4522578161 * t);
-        Y0 += 0.00000084447 * Math.cos(5.69213107859 + 6674.3551238823 * t);
-        Y0 += 0.00000079513 * Math.cos(2.28036031190 + 5088.3850222833 * t);
-        Y0 += 0.00000101901 * Math.cos(2.19454495695 + 529.44714761109 * t);
-        Y0 += 0.00000073054 * Math.cos(3.46030032788 + 1052.51220067191 * t);
-        Y0 += 0.00000073997 * Math.cos(4.31891480859 + 3767.4544350593 * t);
-        Y0 += 0.00000070372 * Math.cos(6.06190685925 + 553.32558535889 * t);
-        Y0 += 0.00000091916 * Math.cos(2.68950348204 + 9595.4829067069 * t);
-        Y0 += 0.00000073607 * Math.cos(3.91508991039 + 7740.8506010723 * t);
-        Y0 += 0.00000066068 * Math.cos(0.03272782030 + 1066.7392946735 * t);
-        Y0 += 0.00000081219 * Math.cos(5.57497325530 + 2810.6776441217 * t);
-        Y0 += 0.00000066430 * Math.cos(3.87195498920 + 2700.4713229023 * t);
-        Y0 += 0.00000054145 * Math.cos(2.72166186985 + 6526.04827144891 * t);
-        Y0 += 0.00000059768 * Math.cos(3.24283548288 + 6041.5713845691 * t);
-        Y0 += 0.00000066173 * Math.cos(4.75351556577 + 10022.0983512351 * t);
-        Y0 += 0.00000049883 * Math.cos(3.52241504779 + 3312.4070567155 * t);
-        Y0 += 0.00000049178 * Math.cos(2.60154680851 + 3369.3054316511 * t);
-        Y0 += 0.00000048202 * Math.cos(0.32517036897 + 397.9051859247 * t);
-        Y0 += 0.00000047310 * Math.cos(3.94287633641 + 15643.9240207933 * t);
-        Y0 += 0.00000048401 * Math.cos(5.71493252665 + 3.76693583251 * t);
-        Y0 += 0.00000066173 * Math.cos(2.72274393427 + 10022.06384393071 * t);
-        Y0 += 0.00000043167 * Math.cos(3.68410600012 + 4690.23601887509 * t);
-        Y0 += 0.00000052329 * Math.cos(3.78533146894 + 7903.3172372045 * t);
-        Y0 += 0.00000043258 * Math.cos(0.37554748132 + 149.8070146181 * t);
-        Y0 += 0.00000053318 * Math.cos(0.93774568542 + 10420.23010099111 * t);
-        Y0 += 0.00000038925 * Math.cos(4.06852349635 + 6682.44899195131 * t);
-        Y0 += 0.00000043058 * Math.cos(1.14093100948 + 3325.6037729983 * t);
-        Y0 += 0.00000042835 * Math.cos(4.98274982261 + 3356.10871536831 * t);
-        Y0 += 0.00000049042 * Math.cos(0.37958979733 + 2273.8731320263 * t);
-        Y0 += 0.00000045897 * Math.cos(3.30255905408 + 2288.1002260279 * t);
-        Y0 += 0.00000036267 * Math.cos(0.37823003866 + 23384.5308043821 * t);
-        Y0 += 0.00000050027 * Math.cos(0.20993213048 + 5621.5991057269 * t);
-        Y0 += 0.00000041152 * Math.cos(2.03769608425 + 537.0483295789 * t);
-        Y0 += 0.00000038722 * Math.cos(5.48335922125 + 522.8212355773 * t);
-        Y0 += 0.00000044751 * Math.cos(2.74146086011 + 3077.77232081051 * t);
-        Y0 += 0.00000031695 * Math.cos(2.65244951875 + 5629.2002876947 * t);
-        Y0 += 0.00000031478 * Math.cos(0.69290700501 + 5331.6012612243 * t);
-        Y0 += 0.00000033349 * Math.cos(0.55070002892 + 242.97242145751 * t);
-        Y0 += 0.00000036130 * Math.cos(0.70369333471 + 9808.78200214491 * t);
-        Y0 += 0.00000031660 * Math.cos(3.54279700539 + 2648.6986429565 * t);
-        Y0 += 0.00000039058 * Math.cos(2.73256710316 + 6680.4883498149 * t);
-        Y0 += 0.00000032374 * Math.cos(3.86940131593 + 7875.91568110771 * t);
-        Y0 += 0.00000038493 * Math.cos(0.77970755386 + 6894.76776632111 * t);
-        Y0 += 0.00000040044 * Math.cos(3.38354028832 + 3603.9401675561 * t);
-        Y0 += 0.00000027893 * Math.cos(2.32668323191 + 7373.13863714289 * t);
-        Y0 += 0.00000027665 * Math.cos(0.80854741955 + 12964.5445208745 * t);
-        Y0 += 0.00000027878 * Math.cos(5.37977989507 + 1350.1112271423 * t);
-        Y0 += 0.00000028322 * Math.cos(4.11041470939 + 8030.8484455749 * t);
-        Y0 += 0.00000028486 * Math.cos(6.08536458002 + 5614.9731936931 * t);
-        Y0 += 0.00000029761 * Math.cos(3.84843907128 + 3178.38960805111 * t);
-        Y0 += 0.00000035657 * Math.cos(2.70492671014 + 8428.9974489831 * t);
-        Y0 += 0.00000028159 * Math.cos(2.26219738844 + 3503.3228803155 * t);
-        Y0 += 0.00000027295 * Math.cos(1.14579185082 + 213.0552779545 * t);
-        Y0 += 0.00000024083 * Math.cos(2.53502654613 + 4033.0138454101 * t);
-        Y0 += 0.00000023726 * Math.cos(2.22123833128 + 3320.50092478451 * t);
-        Y0 += 0.00000023543 * Math.cos(3.90125907437 + 3361.2115635821 * t);
-        Y0 += 0.00000024407 * Math.cos(0.04920773130 + 76.50988875911 * t);
-        Y0 += 0.00000022360 * Math.cos(3.29082907917 + 15114.2330556987 * t);
-        Y0 += 0.00000022681 * Math.cos(0.62465627638 + 13366.21664263171 * t);
-        Y0 += 0.00000030767 * Math.cos(3.54413358961 + 102.84895673509 * t);
-        Y0 += 0.00000023116 * Math.cos(2.67363493175 + 1692.40948698591 * t);
-        Y0 += 0.00000024795 * Math.cos(4.51530523814 + 691.9137837433 * t);
-        Y0 += 0.00000021819 * Math.cos(0.39147454554 + 10022.1484078857 * t);
-        Y0 += 0.00000021420 * Math.cos(2.33354950951 + 6660.6932753907 * t);
-        Y0 += 0.00000020686 * Math.cos(2.52092831971 + 1582.2031657665 * t);
-        Y0 += 0.00000025165 * Math.cos(5.06243453868 + 3335.3333198759 * t);
-        Y0 += 0.00000021819 * Math.cos(0.79997093238 + 10022.01378728011 * t);
-        Y0 += 0.00000025110 * Math.cos(1.05972287332 + 3346.3791684907 * t);
-        Y0 += 0.00000022778 * Math.cos(6.02670962938 + 9830.6328314713 * t);
-        Y0 += 0.00000021875 * Math.cos(3.23482242791 + 11243.9296639043 * t);
-        Y0 += 0.00000019487 * Math.cos(4.05002877465 + 3336.8454908673 * t);
-        Y0 += 0.00000025048 * Math.cos(4.04459983417 + 1648.2029397139 * t);
-        Y0 += 0.00000019285 * Math.cos(5.68171337975 + 3330.2195788335 * t);
-        Y0 += 0.00000019206 * Math.cos(0.44033697686 + 3351.49290953311 * t);
-        Y0 += 0.00000019577 * Math.cos(5.54020511510 + 6438.7400669091 * t);
-        Y0 += 0.00000023713 * Math.cos(2.35775949900 + 796.0541893329 * t);
-        Y0 += 0.00000018024 * Math.cos(2.37243714858 + 3.2793008655 * t);
-        Y0 += 0.00000017457 * Math.cos(5.61909053663 + 6872.91693699471 * t);
-        Y0 += 0.00000020758 * Math.cos(1.11119646396 + 2914.2580533073 * t);
-        Y0 += 0.00000023325 * Math.cos(4.38303926683 + 1758.40926093329 * t);
-        Y0 += 0.00000019762 * Math.cos(5.90704491623 + 2818.2788260895 * t);
-        Y0 += 0.00000018903 * Math.cos(0.13118670804 + 3863.4336622771 * t);
-        Y0 += 0.00000018548 * Math.cos(3.43514985020 + 3343.8917275653 * t);
-        Y0 += 0.00000020024 * Math.cos(3.66434113579 + 9382.18381126891 * t);
-        Y0 += 0.00000023004 * Math.cos(1.24456792545 + 13359.1704059337 * t);
-        Y0 += 0.00000020686 * Math.cos(4.47763433062 + 6702.2440663755 * t);
-        Y0 += 0.00000017546 * Math.cos(5.48185771093 + 3074.24920246151 * t);
-        Y0 += 0.00000021953 * Math.cos(1.45487277078 + 10713.75106384269 * t);
-        Y0 += 0.00000022478 * Math.cos(4.93708763645 + 3531.81687532789 * t);
-        Y0 += 0.00000017443 * Math.cos(1.52686638431 + 7063.87756813929 * t);
-        Y0 += 0.00000016475 * Math.cos(3.32396294407 + 8432.52056733209 * t);
-        Y0 += 0.00000016284 * Math.cos(3.03747056649 + 6298.57213865991 * t);
-        Y0 += 0.00000016296 * Math.cos(1.33599982138 + 10551.7720626775 * t);
-        Y0 += 0.00000021367 * Math.cos(5.09084614486 + 4292.0870154669 * t);
-        Y0 += 0.00000015862 * Math.cos(1.17152126786 + 3723.26514143949 * t);
-        Y0 += 0.00000016182 * Math.cos(5.51657199394 + 7632.6994421667 * t);
-        Y0 += 0.00000018728 * Math.cos(3.30231901555 + 4032.52621044309 * t);
-        Y0 += 0.00000017711 * Math.cos(5.62352752655 + 10818.3791043993 * t);
-        Y0 += 0.00000016214 * Math.cos(0.64104308804 + 3607.46328590511 * t);
-        Y0 += 0.00000020207 * Math.cos(5.21669629085 + 2708.07250487011 * t);
-        Y0 += 0.00000017851 * Math.cos(3.90780341044 + 6836.8890703173 * t);
-        Y0 += 0.00000014367 * Math.cos(1.90616251659 + 8429.4850839501 * t);
-        Y0 += 0.00000016523 * Math.cos(0.57557849919 + 6158.8912527893 * t);
-        Y0 += 0.00000019608 * Math.cos(1.94522419099 + 853.4401992355 * t);
-        Y0 += 0.00000014968 * Math.cos(5.74996412926 + 6531.9054737485 * t);
-        Y0 += 0.00000013797 * Math.cos(0.79312255069 + 419.72846135871 * t);
-        Y0 += 0.00000013414 * Math.cos(4.51615928517 + 3127.0695137783 * t);
-        Y0 += 0.00000015245 * Math.cos(0.67463983149 + 7064.3652031063 * t);
-        Y0 += 0.00000015674 * Math.cos(2.89380716586 + 3333.8100074853 * t);
-        Y0 += 0.00000013513 * Math.cos(3.61353175693 + 6685.0590995349 * t);
-        Y0 += 0.00000016177 * Math.cos(5.55617497884 + 5729.7502646325 * t);
-        Y0 += 0.00000016167 * Math.cos(4.06504177790 + 6144.6641587877 * t);
-        Y0 += 0.00000013924 * Math.cos(3.03881519646 + 12936.0953334067 * t);
-        Y0 += 0.00000012758 * Math.cos(0.71728265214 + 3336.9749088253 * t);
-        Y0 += 0.00000016755 * Math.cos(0.87447011602 + 3973.6399834965 * t);
-        Y0 += 0.00000012740 * Math.cos(5.40649102919 + 3344.73757954131 * t);
-        Y0 += 0.00000015216 * Math.cos(3.70357996455 + 5459.6201045617 * t);
-        Y0 += 0.00000013755 * Math.cos(3.67924088742 + 433.9555553603 * t);
-        Y0 += 0.00000013727 * Math.cos(4.13790239727 + 6127.8992680407 * t);
-        Y0 += 0.00000016418 * Math.cos(3.85207670396 + 75.0254160508 * t);
-        Y0 += 0.00000012379 * Math.cos(4.87573415701 + 2487.1722274643 * t);
-        Y0 += 0.00000012121 * Math.cos(3.30257314405 + 3980.7535304973 * t);
-        Y0 += 0.00000012145 * Math.cos(3.07029009464 + 3281.4823822697 * t);
-        Y0 += 0.00000016915 * Math.cos(1.87976030933 + 10404.48999483909 * t);
-        Y0 += 0.00000013732 * Math.cos(3.17849954583 + 6677.8782422313 * t);
-        Y0 += 0.00000012163 * Math.cos(5.94119470839 + 10973.3118688665 * t);
-        Y0 += 0.00000011839 * Math.cos(3.05197069508 + 3400.23010609691 * t);
-        Y0 += 0.00000013460 * Math.cos(0.01339869768 + 1596.43025976811 * t);
-        Y0 += 0.00000011950 * Math.cos(0.72333324885 + 1744.1821669317 * t);
-        Y0 += 0.00000014031 * Math.cos(3.20900224186 + 8031.3360805419 * t);
-        Y0 += 0.00000013621 * Math.cos(4.01984912325 + 3415.63784275061 * t);
-        Y0 += 0.00000011890 * Math.cos(3.44240756999 + 4989.3030013807 * t);
-        Y0 += 0.00000011133 * Math.cos(3.95045133494 + 8270.5415661669 * t);
-        Y0 += 0.00000011115 * Math.cos(1.68346953337 + 6816.53375091851 * t);
-        Y0 += 0.00000010961 * Math.cos(1.29021416023 + 110.45013870291 * t);
-        Y0 += 0.00000012029 * Math.cos(2.48781942810 + 1751.7833488995 * t);
-        Y0 += 0.00000012954 * Math.cos(3.09490820262 + 8969.8127143945 * t);
-        Y0 += 0.00000012975 * Math.cos(2.11989840845 + 3266.074645616 * t);
-        Y0 += 0.00000013898 * Math.cos(5.14618871897 + 6546.4035908477 * t);
-        Y0 += 0.00000010787 * Math.cos(2.11806328265 + 11770.0975106499 * t);
-        Y0 += 0.00000013676 * Math.cos(3.07870529532 + 3347.90248088131 * t);
-        Y0 += 0.00000014429 * Math.cos(1.92454286503 + 6041.08374960209 * t);
-        Y0 += 0.00000010265 * Math.cos(3.57928773201 + 5099.50932260011 * t);
-        Y0 += 0.00000010855 * Math.cos(5.60540188720 + 3316.97780643551 * t);
-        Y0 += 0.00000013203 * Math.cos(0.19791164589 + 8955.58562039291 * t);
-        Y0 += 0.00000010750 * Math.cos(0.51835327782 + 3364.7346819311 * t);
-        Y0 += 0.00000012106 * Math.cos(4.95253802158 + 6.86972951729 * t);
-        Y0 += 0.00000010745 * Math.cos(1.75142473456 + 16173.6149858879 * t);
-        Y0 += 0.00000010862 * Math.cos(4.59591535215 + 7633.1870771337 * t);
-        Y0 += 0.00000013130 * Math.cos(4.64408283563 + 6688.5822178839 * t);
-        Y0 += 0.00000012618 * Math.cos(0.44972794093 + 3443.94901840191 * t);
-        Y0 += 0.00000010348 * Math.cos(2.48573429062 + 5884.68302909969 * t);
-        Y0 += 0.00000011408 * Math.cos(5.58895311057 + 3237.7634699647 * t);
-        Y0 += 0.00000010014 * Math.cos(0.21528796338 + 3893.93801205869 * t);
-        Y0 += 0.00000013330 * Math.cos(4.53273448064 + 11371.4608722747 * t);
-        Y0 += 0.00000009390 * Math.cos(4.70787699498 + 6151.2900708215 * t);
-        Y0 += 0.00000009317 * Math.cos(4.47268149096 + 3304.8283775059 * t);
-        Y0 += 0.00000009588 * Math.cos(2.36418014273 + 14584.5420906041 * t);
-        Y0 += 0.00000009187 * Math.cos(1.65111069662 + 3376.88411086071 * t);
-        Y0 += 0.00000008922 * Math.cos(2.44896013420 + 8274.0646845159 * t);
-        Y0 += 0.00000012186 * Math.cos(6.02036123080 + 10014.9675505821 * t);
-        Y0 += 0.00000008852 * Math.cos(0.78017288566 + 2921.37160030811 * t);
-        Y0 += 0.00000011498 * Math.cos(1.82027521748 + 3024.4643745267 * t);
-        Y0 += 0.00000008932 * Math.cos(0.47616058050 + 3340.4361680897 * t);
-        Y0 += 0.00000008932 * Math.cos(5.64760633814 + 3341.27632027691 * t);
-        Y0 += 0.00000010791 * Math.cos(2.77302371275 + 13362.2058893157 * t);
-        Y0 += 0.00000010440 * Math.cos(4.29767407547 + 3657.24811383991 * t);
-        Y0 += 0.00000010488 * Math.cos(0.76119276539 + 12168.2465140581 * t);
-        Y0 += 0.00000007791 * Math.cos(4.94235946787 + 162.2228186487 * t);
-        Y0 += 0.00000008278 * Math.cos(6.07340700806 + 6605.2025996075 * t);
-        Y0 += 0.00000007730 * Math.cos(6.04134808195 + 7235.0380737255 * t);
-        Y0 += 0.00000010793 * Math.cos(0.90852791213 + 135.30889751891 * t);
-        Y0 += 0.00000009855 * Math.cos(0.50508691053 + 951.9622237341 * t);
-        Y0 += 0.00000007570 * Math.cos(5.85095682416 + 1861.5020351519 * t);
-        Y0 += 0.00000007347 * Math.cos(5.45188972477 + 3760.3408880585 * t);
-        Y0 += 0.00000007458 * Math.cos(3.50693253979 + 11371.9485072417 * t);
-        Y0 += 0.00000007415 * Math.cos(1.06538367574 + 10575.1628654583 * t);
-        Y0 += 0.00000007387 * Math.cos(4.04748411837 + 7373.62627210991 * t);
-        Y0 += 0.00000007330 * Math.cos(5.09163920237 + 13362.7107779349 * t);
-        Y0 += 0.00000007563 * Math.cos(2.58673910300 + 3134.67069574611 * t);
-        Y0 += 0.00000008273 * Math.cos(5.52944425917 + 633.0275567967 * t);
-        Y0 += 0.00000009017 * Math.cos(3.31603055267 + 6784.5614451017 * t);
-        Y0 += 0.00000007330 * Math.cos(3.06086757088 + 13362.6762706305 * t);
-        Y0 += 0.00000006892 * Math.cos(2.23117060751 + 3170.1833735641 * t);
-        Y0 += 0.00000009499 * Math.cos(0.28342373247 + 191.6920835951 * t);
-        Y0 += 0.00000008390 * Math.cos(1.78738551777 + 12566.3955174663 * t);
-        Y0 += 0.00000007258 * Math.cos(3.50543277363 + 3547.0417926205 * t);
-        Y0 += 0.00000007563 * Math.cos(1.86781369518 + 3209.3142824969 * t);
-        Y0 += 0.00000007609 * Math.cos(3.51290916963 + 3304.25087887911 * t);
-        Y0 += 0.00000007490 * Math.cos(1.30636174884 + 6924.1972748571 * t);
-        Y0 += 0.00000006532 * Math.cos(4.34833038552 + 1118.5119746193 * t);
-        Y0 += 0.00000006446 * Math.cos(1.91072140138 + 3340.4263610566 * t);
-        Y0 += 0.00000006446 * Math.cos(4.21304551726 + 3341.28612731 * t);
-        Y0 += 0.00000008809 * Math.cos(2.38729963716 + 8827.6340873583 * t);
-        Y0 += 0.00000006453 * Math.cos(3.89231889829 + 3511.5291148025 * t);
-        Y0 += 0.00000007497 * Math.cos(2.61086786245 + 3377.4616094875 * t);
-        Y0 += 0.00000006647 * Math.cos(6.12930067880 + 1376.0176173293 * t);
-        Y0 += 0.00000006444 * Math.cos(0.76608645809 + 1479.11039154791 * t);
-        Y0 += 0.00000006777 * Math.cos(0.94042275680 + 1194.2031927411 * t);
-        Y0 += 0.00000006272 * Math.cos(2.60939993697 + 11243.44202893729 * t);
-        Y0 += 0.00000007647 * Math.cos(4.24404085436 + 11081.46302777211 * t);
-        Y0 += 0.00000006372 * Math.cos(4.42614040426 + 8827.14645239129 * t);
-        Y0 += 0.00000008206 * Math.cos(0.63888089259 + 7234.5504387585 * t);
-        Y0 += 0.00000006106 * Math.cos(1.65903263989 + 10184.06009874809 * t);
-        Y0 += 0.00000006255 * Math.cos(1.27116212393 + 956.53297345411 * t);
-        Y0 += 0.00000006895 * Math.cos(4.25463819285 + 3472.39820586971 * t);
-        Y0 += 0.00000005956 * Math.cos(5.42533370697 + 641.12142486571 * t);
-        Y0 += 0.00000006342 * Math.cos(4.38723597534 + 1162.7185218913 * t);
-        Y0 += 0.00000008015 * Math.cos(4.17209419953 + 5828.2722891311 * t);
-        Y0 += 0.00000006858 * Math.cos(6.08696943259 + 5085.2822285985 * t);
-        Y0 += 0.00000005564 * Math.cos(2.95420857060 + 949.4194264533 * t);
-        Y0 += 0.00000005685 * Math.cos(1.48739730270 + 13915.77529215809 * t);
-        Y0 += 0.00000005989 * Math.cos(1.27210341857 + 13760.8425276909 * t);
-        Y0 += 0.00000006614 * Math.cos(2.59817425884 + 5099.0216876331 * t);
-        Y0 += 0.00000006046 * Math.cos(4.28381801697 + 18984.5364474931 * t);
-        Y0 += 0.00000005388 * Math.cos(4.75457886592 + 1228.7182958387 * t);
-        Y0 += 0.00000006477 * Math.cos(4.76369580716 + 2177.8939048085 * t);
-        Y0 += 0.00000006716 * Math.cos(5.99595862554 + 5084.7945936315 * t);
-        Y0 += 0.00000006834 * Math.cos(2.30327442130 + 6606.6870723158 * t);
-        Y0 += 0.00000006185 * Math.cos(5.40821565539 + 220.6564599223 * t);
-        Y0 += 0.00000005372 * Math.cos(0.17118392777 + 2766.5114458485 * t);
-        Y0 += 0.00000006939 * Math.cos(3.86951988876 + 8329.9154280805 * t);
-        Y0 += 0.00000005250 * Math.cos(2.86332649708 + 224.5886131854 * t);
-        Y0 += 0.00000005178 * Math.cos(1.81203706439 + 3274.36883526891 * t);
-        Y0 += 0.00000005636 * Math.cos(3.05816376185 + 9866.66069814871 * t);
-        Y0 += 0.00000005018 * Math.cos(4.30701144279 + 3407.3436530977 * t);
-        Y0 += 0.00000006287 * Math.cos(2.70767720037 + 2222.1004520805 * t);
-        Y0 += 0.00000006027 * Math.cos(5.86363508643 + 3340.3513555641 * t);
-        Y0 += 0.00000006581 * Math.cos(3.78955993789 + 38.3768531213 * t);
-        Y0 += 0.00000006293 * Math.cos(4.17674637169 + 8440.1217492999 * t);
-        Y0 += 0.00000004882 * Math.cos(1.00486095714 + 10404.9776298061 * t);
-        Y0 += 0.00000004795 * Math.cos(0.36427947507 + 4407.3517213733 * t);
-        Y0 += 0.00000006476 * Math.cos(3.29629751497 + 3297.1373318783 * t);
-        Y0 += 0.00000006362 * Math.cos(2.82771763572 + 3384.5751564883 * t);
-        Y0 += 0.00000005306 * Math.cos(2.70813322540 + 206.42936592071 * t);
-        Y0 += 0.00000006484 * Math.cos(4.73121616424 + 7108.06686175911 * t);
-        Y0 += 0.00000004752 * Math.cos(5.47348414235 + 6261.9840270079 * t);
-        Y0 += 0.00000006261 * Math.cos(0.59716322071 + 1964.5948093705 * t);
-        Y0 += 0.00000005039 * Math.cos(2.43909809375 + 6247.7569330063 * t);
-        Y0 += 0.00000006027 * Math.cos(1.61122140965 + 3340.38586286849 * t);
-        Y0 += 0.00000004586 * Math.cos(2.93637860920 + 6709.91785835091 * t);
-        Y0 += 0.00000004635 * Math.cos(6.08947141473 + 263.3277408563 * t);
-        Y0 += 0.00000004870 * Math.cos(3.87407090566 + 4393.1246273717 * t);
-        Y0 += 0.00000006261 * Math.cos(2.83172709667 + 26088.1469590577 * t);
-        Y0 += 0.00000004434 * Math.cos(3.32464019476 + 155.6642169177 * t);
-        Y0 += 0.00000004383 * Math.cos(1.48980830926 + 6666.2161996981 * t);
-        Y0 += 0.00000004389 * Math.cos(1.03247430987 + 13149.3944288447 * t);
-        Y0 += 0.00000004433 * Math.cos(6.22122951581 + 2807.6421607397 * t);
-        Y0 += 0.00000004980 * Math.cos(2.89384649269 + 5827.78465416409 * t);
-        Y0 += 0.00000004443 * Math.cos(5.95476217838 + 3915.2010425181 * t);
-        Y0 += 0.00000004299 * Math.cos(0.75007520827 + 8962.2115324267 * t);
-        Y0 += 0.00000004356 * Math.cos(1.14577413888 + 10235.3801930209 * t);
-        Y0 += 0.00000004498 * Math.cos(1.91438448815 + 553.8132203259 * t);
-        Y0 += 0.00000005019 * Math.cos(4.13208637738 + 3738.51761262449 * t);
-        Y0 += 0.00000004315 * Math.cos(3.27234333766 + 3877.6607562787 * t);
-        Y0 += 0.00000004072 * Math.cos(3.33901445618 + 574.10098085129 * t);
-        Y0 += 0.00000004107 * Math.cos(3.07058211212 + 10021.1007765147 * t);
-        Y0 += 0.00000003964 * Math.cos(1.61309186306 + 3495.78900865049 * t);
-        Y0 += 0.00000004785 * Math.cos(0.27642621276 + 2699.9786368011 * t);
-        Y0 += 0.00000005396 * Math.cos(0.07454063526 + 14313.9242955663 * t);
-        Y0 += 0.00000003822 * Math.cos(0.64534260204 + 3490.4194413179 * t);
-        Y0 += 0.00000004095 * Math.cos(4.40659363743 + 10023.06141865111 * t);
-        Y0 += 0.00000003697 * Math.cos(4.79643368803 + 6571.2623496637 * t);
-        Y0 += 0.00000003779 * Math.cos(2.89531499128 + 13517.62628874989 * t);
-        Y0 += 0.00000003860 * Math.cos(2.04716548704 + 6836.40143535029 * t);
-        Y0 += 0.00000004702 * Math.cos(2.45248163598 + 2111.8941308611 * t);
-        Y0 += 0.00000003630 * Math.cos(0.00915212983 + 11769.6098756829 * t);
-        Y0 += 0.00000004499 * Math.cos(0.82553557194 + 13524.67252544789 * t);
-        Y0 += 0.00000003497 * Math.cos(4.11625604633 + 6282.83203250789 * t);
-        Y0 += 0.00000003489 * Math.cos(4.20101724067 + 11216.5281078075 * t);
-        Y0 += 0.00000003591 * Math.cos(6.26737509852 + 3874.07032762691 * t);
-        Y0 += 0.00000003976 * Math.cos(2.17190102533 + 2804.05173208791 * t);
-        Y0 += 0.00000004680 * Math.cos(4.90769516889 + 10973.7995038335 * t);
-        Y0 += 0.00000003961 * Math.cos(0.18319392811 + 6048.6849315699 * t);
-        Y0 += 0.00000003954 * Math.cos(3.83351307387 + 6653.0194834153 * t);
-        Y0 += 0.00000003352 * Math.cos(0.48662889418 + 8425.8946552983 * t);
-        Y0 += 0.00000004016 * Math.cos(5.83961396630 + 3981.73385156551 * t);
-        Y0 += 0.00000003356 * Math.cos(4.65730182486 + 9168.88471583091 * t);
-        Y0 += 0.00000004260 * Math.cos(3.10890117595 + 3333.2550622155 * t);
-        Y0 += 0.00000003936 * Math.cos(2.60585567874 + 6843.4476720483 * t);
-        Y0 += 0.00000003767 * Math.cos(0.71635417612 + 26725.1432310819 * t);
-        Y0 += 0.00000003388 * Math.cos(3.58080763162 + 18454.8454823985 * t);
-        Y0 += 0.00000003337 * Math.cos(4.78188036655 + 13936.5506876505 * t);
-        Y0 += 0.00000003230 * Math.cos(0.84980496278 + 262.84010588929 * t);
-        Y0 += 0.00000004019 * Math.cos(5.32092079015 + 6696.72114206811 * t);
-        Y0 += 0.00000003967 * Math.cos(0.18799481688 + 266.85085920531 * t);
-        Y0 += 0.00000003932 * Math.cos(5.32627876219 + 2384.0794532457 * t);
-        Y0 += 0.00000003087 * Math.cos(5.35381754909 + 5202.6020968187 * t);
-        Y0 += 0.00000003922 * Math.cos(3.38887523411 + 4459.61203628611 * t);
-        Y0 += 0.00000003717 * Math.cos(3.00241667255 + 2906.6568713395 * t);
-        Y0 += 0.00000003266 * Math.cos(1.14686627484 + 16305.1569475743 * t);
-        Y0 += 0.00000003104 * Math.cos(6.26686342256 + 5305.6948710373 * t);
-        Y0 += 0.00000003000 * Math.cos(3.55062935508 + 10714.23869880971 * t);
-        Y0 += 0.00000003921 * Math.cos(2.47083832508 + 10177.01386205009 * t);
-        Y0 += 0.00000003084 * Math.cos(1.63553589002 + 1059.1381127057 * t);
-        Y0 += 0.00000003253 * Math.cos(1.65815244061 + 5518.9939664753 * t);
-        Y0 += 0.00000002861 * Math.cos(4.91663574228 + 1331.8110700573 * t);
-        Y0 += 0.00000003304 * Math.cos(1.02799621733 + 8672.21368792411 * t);
-        Y0 += 0.00000002975 * Math.cos(0.03645619502 + 10575.6505004253 * t);
-        Y0 += 0.00000002756 * Math.cos(0.68592989650 + 6040.5910635009 * t);
-        Y0 += 0.00000002950 * Math.cos(3.68233121776 + 6944.5525942559 * t);
-        Y0 += 0.00000003005 * Math.cos(0.80186680463 + 2707.58486990309 * t);
-        Y0 += 0.00000002717 * Math.cos(4.19242288497 + 6519.0020347509 * t);
-        Y0 += 0.00000002801 * Math.cos(3.31637382659 + 16858.23871544969 * t);
-        Y0 += 0.00000002897 * Math.cos(2.39765481455 + 2700.9589578693 * t);
-        Y0 += 0.00000003274 * Math.cos(5.89447455545 + 2920.8839653411 * t);
-        Y0 += 0.00000002645 * Math.cos(3.89694393584 + 5989.3110696563 * t);
-        Y0 += 0.00000003228 * Math.cos(2.76066844405 + 647.25465079831 * t);
-        Y0 += 0.00000002528 * Math.cos(0.08269800947 + 13171.2452581711 * t);
-        Y0 += 0.00000003531 * Math.cos(6.23552426531 + 3190.80541208169 * t);
-        Y0 += 0.00000002590 * Math.cos(4.84869275207 + 5725.1795149125 * t);
-        Y0 += 0.00000002501 * Math.cos(3.06554091162 + 383.1403497067 * t);
-        Y0 += 0.00000002483 * Math.cos(2.30179982047 + 3313.45468808651 * t);
-        Y0 += 0.00000002456 * Math.cos(3.82204304981 + 3368.25780028011 * t);
-        Y0 += 0.00000002450 * Math.cos(3.18294245687 + 5732.2930619133 * t);
-        Y0 += 0.00000002623 * Math.cos(1.58355072138 + 16699.7828326335 * t);
-        Y0 += 0.00000003010 * Math.cos(1.80619032361 + 2008.8013566425 * t);
-        Y0 += 0.00000003148 * Math.cos(3.00255938689 + 3097.64000524229 * t);
-        Y0 += 0.00000002412 * Math.cos(0.20563592554 + 3561.26888662211 * t);
-        Y0 += 0.00000002837 * Math.cos(3.54825853722 + 4569.3307225385 * t);
-        Y0 += 0.00000002416 * Math.cos(0.73041207552 + 13362.7608345855 * t);
-        Y0 += 0.00000002532 * Math.cos(3.29257381257 + 6475.28312244591 * t);
-        Y0 += 0.00000002407 * Math.cos(1.91810131323 + 134.8212625519 * t);
-        Y0 += 0.00000002351 * Math.cos(2.54653063726 + 17925.1545173039 * t);
-        Y0 += 0.00000003311 * Math.cos(5.13364869654 + 17277.16311435029 * t);
-        Y0 += 0.00000002384 * Math.cos(4.42145865201 + 9485.2765854875 * t);
-        Y0 += 0.00000002320 * Math.cos(3.88497277059 + 14712.5609339415 * t);
-        Y0 += 0.00000002350 * Math.cos(5.79681206289 + 533.45790092711 * t);
-        Y0 += 0.00000002433 * Math.cos(2.40535740363 + 3171.2760610503 * t);
-        Y0 += 0.00000002860 * Math.cos(3.63565692925 + 4569.8183575055 * t);
-        Y0 += 0.00000002382 * Math.cos(1.05697861132 + 15508.8589407579 * t);
-        Y0 += 0.00000002274 * Math.cos(1.39549918259 + 6686.9915951905 * t);
-        Y0 += 0.00000002448 * Math.cos(3.02014673677 + 6418.38474751031 * t);
-        Y0 += 0.00000002223 * Math.cos(4.42688952943 + 10595.9382609507 * t);
-        Y0 += 0.00000002362 * Math.cos(3.60748801511 + 6843.9353070153 * t);
-        Y0 += 0.00000002247 * Math.cos(5.47246717730 + 3338.1047335723 * t);
-        Y0 += 0.00000002247 * Math.cos(0.65129974134 + 3343.60775479431 * t);
-        Y0 += 0.00000002877 * Math.cos(5.31092659214 + 3870.0595743109 * t);
-        Y0 += 0.00000002167 * Math.cos(0.11779930741 + 2126.1212248627 * t);
-        Y0 += 0.00000002861 * Math.cos(0.41825730841 + 3342.34071689161 * t);
-        Y0 += 0.00000002948 * Math.cos(5.86603214726 + 6414.8616291613 * t);
-        Y0 += 0.00000002832 * Math.cos(5.70194885568 + 3339.371771475 * t);
-        Y0 += 0.00000002257 * Math.cos(2.42684789077 + 14054.8511255095 * t);
-        Y0 += 0.00000002582 * Math.cos(0.96409333017 + 16706.8290693315 * t);
-        Y0 += 0.00000002284 * Math.cos(3.72042741576 + 3510.4364273163 * t);
-        Y0 += 0.00000002213 * Math.cos(5.79088907317 + 3120.4436017445 * t);
-        Y0 += 0.00000002518 * Math.cos(3.55412857109 + 12722.7962379687 * t);
-        Y0 += 0.00000002156 * Math.cos(3.68823477654 + 1795.5022612045 * t);
-        Y0 += 0.00000002120 * Math.cos(1.86086651852 + 14712.07329897449 * t);
-        Y0 += 0.00000002894 * Math.cos(4.68726480342 + 661.4767442645 * t);
-        Y0 += 0.00000002197 * Math.cos(1.25938311277 + 7314.2524101963 * t);
-        Y0 += 0.00000002352 * Math.cos(5.40138877221 + 6675.9457465757 * t);
-        Y0 += 0.00000002592 * Math.cos(1.99576622470 + 846.3266522347 * t);
-        Y0 += 0.00000002011 * Math.cos(4.10915276822 + 7800.22446298591 * t);
-        Y0 += 0.00000002009 * Math.cos(5.79546041665 + 1592.3521961493 * t);
-        Y0 += 0.00000001985 * Math.cos(5.95943507005 + 14158.9915310991 * t);
-        Y0 += 0.00000002025 * Math.cos(4.72625136485 + 16460.08971204149 * t);
-        Y0 += 0.00000002756 * Math.cos(6.08539056721 + 9872.5179004483 * t);
-        Y0 += 0.00000002586 * Math.cos(2.46711824817 + 15110.7099373497 * t);
-        Y0 += 0.00000001977 * Math.cos(3.94114619904 + 3340.3012989135 * t);
-        Y0 += 0.00000002046 * Math.cos(1.08671847901 + 1214.4912018371 * t);
-        Y0 += 0.00000002049 * Math.cos(3.11791083516 + 1545.1101654953 * t);
-        Y0 += 0.00000002016 * Math.cos(4.23253609288 + 6701.8239902819 * t);
-        Y0 += 0.00000002591 * Math.cos(3.35704415242 + 4459.12440131909 * t);
-        Y0 += 0.00000001944 * Math.cos(6.27867442308 + 793.0187059509 * t);
-        Y0 += 0.00000001969 * Math.cos(5.69710526556 + 8543.2145235185 * t);
-        Y0 += 0.00000002221 * Math.cos(2.56014354281 + 6661.11335148431 * t);
-        Y0 += 0.00000002185 * Math.cos(4.81676561022 + 10042.8564930753 * t);
-        Y0 += 0.00000001909 * Math.cos(1.94360908246 + 14054.36349054249 * t);
-        Y0 += 0.00000002355 * Math.cos(0.64545768145 + 6461.0560284443 * t);
-        Y0 += 0.00000001945 * Math.cos(0.52827400374 + 12296.1980470927 * t);
-        Y0 += 0.00000001856 * Math.cos(0.39994658659 + 3417.1223154589 * t);
-        Y0 += 0.00000001964 * Math.cos(2.16479993477 + 3230.64992296391 * t);
-        Y0 += 0.00000001841 * Math.cos(3.38387944568 + 16276.7077601065 * t);
-        Y0 += 0.00000001867 * Math.cos(3.44547235502 + 6438.2524319421 * t);
-        Y0 += 0.00000002124 * Math.cos(0.31401256569 + 14.47091148511 * t);
-        Y0 += 0.00000001889 * Math.cos(1.27160767434 + 2946.2303591241 * t);
-        Y0 += 0.00000002273 * Math.cos(2.67716254538 + 10001.3057020905 * t);
-        Y0 += 0.00000001977 * Math.cos(3.53264979384 + 3340.43591951909 * t);
-        Y0 += 0.00000001852 * Math.cos(2.83643169906 + 2751.79141717511 * t);
-        Y0 += 0.00000001888 * Math.cos(3.59823741934 + 3502.8352453485 * t);
-        Y0 += 0.00000001924 * Math.cos(4.40431574367 + 205.9417309537 * t);
-        Y0 += 0.00000001900 * Math.cos(3.87884336092 + 9778.8648586419 * t);
-        Y0 += 0.00000001840 * Math.cos(3.26125681857 + 6457.1238751812 * t);
-        Y0 += 0.00000002215 * Math.cos(0.91618144000 + 9499.5036794891 * t);
-        Y0 += 0.00000001806 * Math.cos(0.61464681346 + 2676.10019905331 * t);
-        Y0 += 0.00000001805 * Math.cos(0.77929673675 + 6692.10533623291 * t);
-        Y0 += 0.00000001869 * Math.cos(5.13099640755 + 13554.1417903943 * t);
-        Y0 += 0.00000002416 * Math.cos(1.13890846236 + 13362.62621397991 * t);
-        Y0 += 0.00000002281 * Math.cos(2.28711563872 + 6643.3356352453 * t);
-        Y0 += 0.00000002183 * Math.cos(3.37026241840 + 21.0192129759 * t);
-        Y0 += 0.00000001774 * Math.cos(5.39406505365 + 323.74923414091 * t);
-        Y0 += 0.00000001748 * Math.cos(3.00013324119 + 5033.0219136857 * t);
-        Y0 += 0.00000001767 * Math.cos(6.23938721571 + 4555.10362853689 * t);
-        Y0 += 0.00000001973 * Math.cos(3.46063541883 + 12310.42514109431 * t);
-        Y0 += 0.00000002109 * Math.cos(0.54420400743 + 7204.04608897691 * t);
-        Y0 += 0.00000002169 * Math.cos(2.88513479695 + 3148.9203431047 * t);
-        Y0 += 0.00000001672 * Math.cos(0.98000755171 + 6948.0757126049 * t);
-        Y0 += 0.00000001685 * Math.cos(0.93633564467 + 1434.9038442759 * t);
-        Y0 += 0.00000002274 * Math.cos(1.89593685876 + 17256.38771885789 * t);
-        Y0 += 0.00000001724 * Math.cos(5.60400280415 + 103.3365917021 * t);
-        Y0 += 0.00000001921 * Math.cos(5.80837070052 + 800.06494264891 * t);
-        Y0 += 0.00000001651 * Math.cos(4.33969162257 + 6756.2502694504 * t);
-        Y0 += 0.00000001660 * Math.cos(3.37482712991 + 9639.18456535971 * t);
-        Y0 += 0.00000001575 * Math.cos(4.52126663062 + 7910.4307842053 * t);
-        Y0 += 0.00000001556 * Math.cos(3.74191499438 + 743.23387801611 * t);
-        Y0 += 0.00000001578 * Math.cos(3.90675545614 + 5614.48555872609 * t);
-        Y0 += 0.00000002080 * Math.cos(4.30362766877 + 13119.47728534169 * t);
-        Y0 += 0.00000002163 * Math.cos(5.24182574584 + 28.6930049513 * t);
-        Y0 += 0.00000001532 * Math.cos(5.50079852012 + 4005.61228931331 * t);
-        Y0 += 0.00000001548 * Math.cos(6.24677186455 + 6578.3758966645 * t);
-        Y0 += 0.00000002036 * Math.cos(5.86051117946 + 9779.3524936089 * t);
-        Y0 += 0.00000001534 * Math.cos(4.10234872019 + 2679.62331740231 * t);
-        Y0 += 0.00000001855 * Math.cos(4.01932968889 + 1039.27042827391 * t);
-        Y0 += 0.00000001554 * Math.cos(5.29488549205 + 14314.4119305333 * t);
-        Y0 += 0.00000001555 * Math.cos(4.98628025111 + 10029.1946445837 * t);
-        Y0 += 0.00000001553 * Math.cos(2.32869255037 + 4194.0526259353 * t);
-        Y0 += 0.00000001869 * Math.cos(5.29706229752 + 3113.3801113943 * t);
-        Y0 += 0.00000001547 * Math.cos(0.07021288134 + 13355.57997728191 * t);
-        Y0 += 0.00000001463 * Math.cos(1.13945911840 + 3362.70707350971 * t);
-        Y0 += 0.00000001463 * Math.cos(4.98430780024 + 3319.0054148569 * t);
-        Y0 += 0.00000001468 * Math.cos(1.61396255568 + 632.5399218297 * t);
-        Y0 += 0.00000001867 * Math.cos(1.75651810408 + 13892.3844893773 * t);
-        Y0 += 0.00000001483 * Math.cos(4.22066351666 + 2604.9797306515 * t);
-        Y0 += 0.00000001445 * Math.cos(1.00907902882 + 12994.9815603533 * t);
-        Y0 += 0.00000001444 * Math.cos(3.51978992540 + 10018.4906689311 * t);
-        Y0 += 0.00000001862 * Math.cos(6.02925087361 + 6670.8320055333 * t);
-        Y0 += 0.00000001428 * Math.cos(4.48027025912 + 9468.51169474051 * t);
-        Y0 += 0.00000001440 * Math.cos(2.33087071634 + 2641.5850959557 * t);
-        Y0 += 0.00000001456 * Math.cos(3.27733973667 + 3929.9210711915 * t);
-        Y0 += 0.00000001515 * Math.cos(2.83774866672 + 4922.8155924663 * t);
-        Y0 += 0.00000001642 * Math.cos(5.89569866176 + 9070.3626913323 * t);
-        Y0 += 0.00000001501 * Math.cos(5.08513783174 + 664.99986261351 * t);
-        Y0 += 0.00000001434 * Math.cos(4.16618462135 + 3283.9578692477 * t);
-        Y0 += 0.00000001756 * Math.cos(4.31622529752 + 4672.91113172411 * t);
-        Y0 += 0.00000001552 * Math.cos(5.46763897576 + 9887.0160175475 * t);
-        Y0 += 0.00000001430 * Math.cos(3.95481187554 + 10025.6715262347 * t);
-        Y0 += 0.00000001459 * Math.cos(4.00723308991 + 2693.3577759015 * t);
-        Y0 += 0.00000001423 * Math.cos(5.14334385957 + 19800.7021387413 * t);
-        Y0 += 0.00000001403 * Math.cos(1.95714229211 + 3397.7546191189 * t);
-        Y0 += 0.00000001451 * Math.cos(1.35501835403 + 13745.5900565059 * t);
-        Y0 += 0.00000001366 * Math.cos(5.98910954120 + 4555.59126350391 * t);
-        Y0 += 0.00000001580 * Math.cos(5.04278942486 + 699.02733074409 * t);
-        Y0 += 0.00000001700 * Math.cos(0.82624348118 + 3568.3323769723 * t);
-        Y0 += 0.00000001599 * Math.cos(3.45370180139 + 3212.83740084591 * t);
-        Y0 += 0.00000001492 * Math.cos(2.02328397399 + 6155.3008241375 * t);
-        Y0 += 0.00000001463 * Math.cos(4.18478882640 + 1015.4192004007 * t);
-        Y0 += 0.00000001302 * Math.cos(4.10311228163 + 5625.6098590429 * t);
-        Y0 += 0.00000001329 * Math.cos(4.49775879038 + 3334.1725803092 * t);
-        Y0 += 0.00000001329 * Math.cos(1.62600812826 + 3347.53990805741 * t);
-        Y0 += 0.00000001503 * Math.cos(4.97907412209 + 3378.98927982111 * t);
-        Y0 += 0.00000001397 * Math.cos(4.73682156749 + 588.8210095247 * t);
-        Y0 += 0.00000001500 * Math.cos(5.87752299680 + 3.6883357796 * t);
-        Y0 += 0.00000001522 * Math.cos(2.67169732879 + 3468.8750875207 * t);
-        Y0 += 0.00000001286 * Math.cos(0.30381647283 + 3152.93109642071 * t);
-        Y0 += 0.00000001600 * Math.cos(6.11940741732 + 1905.70858242391 * t);
-        Y0 += 0.00000001339 * Math.cos(4.42233255843 + 2699.49100183409 * t);
-        Y0 += 0.00000001563 * Math.cos(3.16953602104 + 6674.4224341851 * t);
-        Y0 += 0.00000001455 * Math.cos(4.05006092350 + 8800.2325312615 * t);
-        Y0 += 0.00000001337 * Math.cos(5.43427386744 + 2277.4635606781 * t);
-        Y0 += 0.00000001259 * Math.cos(1.69486250292 + 3742.5283659405 * t);
-        Y0 += 0.00000001315 * Math.cos(4.86859160776 + 1191.1677093591 * t);
-        Y0 += 0.00000001298 * Math.cos(1.66827735532 + 17395.4635522093 * t);
-        Y0 += 0.00000001692 * Math.cos(0.41630178717 + 8646.30729773711 * t);
-        Y0 += 0.00000001571 * Math.cos(3.60195764792 + 3451.0625654027 * t);
-        Y0 += 0.00000001377 * Math.cos(4.06860369404 + 7255.3258342509 * t);
-        Y0 += 0.00000001223 * Math.cos(3.70588064572 + 17654.5367222661 * t);
-        Y0 += 0.00000001272 * Math.cos(4.68637067309 + 6997.8605405397 * t);
-        Y0 += 0.00000001293 * Math.cos(3.67069875408 + 10125.1738718015 * t);
-        Y0 += 0.00000001205 * Math.cos(4.45065917256 + 74.53778108379 * t);
-        Y0 += 0.00000001193 * Math.cos(5.74461193872 + 6685.3500062411 * t);
-        Y0 += 0.00000001184 * Math.cos(5.62673019992 + 2178.3815397755 * t);
-        Y0 += 0.00000001175 * Math.cos(1.89792440951 + 4076.7327577151 * t);
-        Y0 += 0.00000001203 * Math.cos(4.18116497461 + 11670.5278547803 * t);
-        Y0 += 0.00000001334 * Math.cos(5.10766451811 + 59.13004443009 * t);
-        Y0 += 0.00000001144 * Math.cos(5.64496891715 + 3191.29304704871 * t);
-        Y0 += 0.00000001205 * Math.cos(3.32707601504 + 6688.51490758111 * t);
-        Y0 += 0.00000001228 * Math.cos(5.80609342080 + 2391.6806352135 * t);
-        Y0 += 0.00000001148 * Math.cos(2.44539933176 + 4886.21022716211 * t);
-        Y0 += 0.00000001116 * Math.cos(4.51745766455 + 15.49628866851 * t);
-        Y0 += 0.00000001253 * Math.cos(5.05556621040 + 66.2435914309 * t);
-        Y0 += 0.00000001122 * Math.cos(3.77962104036 + 4040.12739241091 * t);
-        Y0 += 0.00000001358 * Math.cos(5.34957633026 + 7895.7160552367 * t);
-        Y0 += 0.00000001102 * Math.cos(2.41366384952 + 6365.0768012265 * t);
-        Y0 += 0.00000001406 * Math.cos(2.80809369415 + 9588.3693597061 * t);
-        Y0 += 0.00000001171 * Math.cos(3.63626867502 + 2772.0343701559 * t);
-        Y0 += 0.00000001123 * Math.cos(0.29206000273 + 19402.55313533309 * t);
-        Y0 += 0.00000001128 * Math.cos(3.40923120609 + 6622.0948089695 * t);
-        Y0 += 0.00000001312 * Math.cos(3.60055878901 + 3311.4267356473 * t);
-        Y0 += 0.00000001312 * Math.cos(2.52320812963 + 3370.2857527193 * t);
-        Y0 += 0.00000001101 * Math.cos(4.21894828336 + 3774.56798206011 * t);
-        Y0 += 0.00000001088 * Math.cos(1.71898270137 + 6148.2545874395 * t);
-        Y0 += 0.00000001229 * Math.cos(0.96682659655 + 3145.8848597227 * t);
-        Y0 += 0.00000001354 * Math.cos(2.50280456655 + 4136.66661603269 * t);
-        Y0 += 0.00000001266 * Math.cos(4.04478089387 + 6887.6542193203 * t);
-        Y0 += 0.00000001192 * Math.cos(4.67129146326 + 2284.5097973761 * t);
-        Y0 += 0.00000001059 * Math.cos(4.36720591986 + 1198.21394605711 * t);
-        Y0 += 0.00000001222 * Math.cos(2.97121261302 + 3184.4555236809 * t);
-        Y0 += 0.00000001094 * Math.cos(4.64408209257 + 2074.8011305899 * t);
-        Y0 += 0.00000001086 * Math.cos(2.75001390170 + 2325.1932262991 * t);
-        Y0 += 0.00000001116 * Math.cos(4.29111524058 + 11611.1539928667 * t);
-        Y0 += 0.00000001041 * Math.cos(3.66185163778 + 6684.5041542651 * t);
-        Y0 += 0.00000001105 * Math.cos(4.51598444814 + 5618.5636223449 * t);
-        Y0 += 0.00000001218 * Math.cos(2.02575108900 + 10157.14617761831 * t);
-        Y0 += 0.00000001292 * Math.cos(1.97917110685 + 7909.94314923829 * t);
-        Y0 += 0.00000001193 * Math.cos(1.05540356619 + 6677.5873355251 * t);
-        Y0 += 0.00000001011 * Math.cos(1.88468389957 + 2494.28577446509 * t);
-        Y0 += 0.00000001102 * Math.cos(3.69335958507 + 7321.36595719711 * t);
-        Y0 += 0.00000001001 * Math.cos(0.06352856156 + 11766.5070819981 * t);
-        Y0 += 0.00000001048 * Math.cos(5.71072902244 + 12721.32828193349 * t);
-        Y0 += 0.00000000990 * Math.cos(4.38329192789 + 3181.91272640011 * t);
-        Y0 += 0.00000001146 * Math.cos(3.15307281945 + 3497.2569646857 * t);
-        Y0 += 0.00000000991 * Math.cos(6.20825855106 + 4140.6773693487 * t);
-        Y0 += 0.00000001269 * Math.cos(3.62849885608 + 3188.95896309811 * t);
-        Y0 += 0.00000001254 * Math.cos(3.35511704434 + 6034.4578375683 * t);
-        Y0 += 0.00000001293 * Math.cos(0.35118272433 + 1.7282901918 * t);
-        Y0 += 0.00000001206 * Math.cos(3.76131577148 + 6740.84253279671 * t);
-        Y0 += 0.00000001073 * Math.cos(0.65876193854 + 9389.2973582697 * t);
-        Y0 += 0.00000001361 * Math.cos(0.12651635396 + 9945.8150263073 * t);
-        Y0 += 0.00000000977 * Math.cos(0.35688532237 + 3319.52060371631 * t);
-        Y0 += 0.00000000977 * Math.cos(5.76688159627 + 3362.1918846503 * t);
-        Y0 += 0.00000000969 * Math.cos(4.50332531081 + 1272.9248431107 * t);
-        Y0 += 0.00000001176 * Math.cos(5.72271210931 + 9602.5964537077 * t);
-        Y0 += 0.00000001347 * Math.cos(2.06226659912 + 19514.2274125877 * t);
-        Y0 += 0.00000001073 * Math.cos(4.27891714150 + 6677.4579175671 * t);
-        Y0 += 0.00000000968 * Math.cos(1.10386271982 + 522.3336006103 * t);
-        Y0 += 0.00000001192 * Math.cos(2.35359183418 + 1222.09238380491 * t);
-        Y0 += 0.00000001237 * Math.cos(4.15588129311 + 5835.38583613191 * t);
-        Y0 += 0.00000001057 * Math.cos(2.86510171570 + 2597.3785486837 * t);
-        Y0 += 0.00000000957 * Math.cos(4.82126145069 + 6645.4408042057 * t);
-        Y0 += 0.00000000971 * Math.cos(1.72322720325 + 20809.2238071617 * t);
-        Y0 += 0.00000000991 * Math.cos(0.53667136955 + 131.7857791699 * t);
-        Y0 += 0.00000001159 * Math.cos(5.13897713303 + 9065.7919416123 * t);
-        Y0 += 0.00000000943 * Math.cos(3.92998399256 + 3337.31587218211 * t);
-        Y0 += 0.00000000943 * Math.cos(5.33537557967 + 3344.3966161845 * t);
-        Y0 += 0.00000000929 * Math.cos(2.07665479133 + 4002.0891709643 * t);
-        Y0 += 0.00000000977 * Math.cos(2.12320798920 + 2538.4923217371 * t);
-        Y0 += 0.00000000938 * Math.cos(4.38862417624 + 931.60690433531 * t);
-        Y0 += 0.00000001272 * Math.cos(0.89864359772 + 3302.7232085455 * t);
-        Y0 += 0.00000000960 * Math.cos(2.48494556814 + 3909.6781182107 * t);
-        Y0 += 0.00000000909 * Math.cos(2.06818561261 + 3326.62915018171 * t);
-        Y0 += 0.00000000943 * Math.cos(3.30460394818 + 3344.36210888011 * t);
-        Y0 += 0.00000000943 * Math.cos(5.96075562405 + 3337.3503794865 * t);
-        Y0 += 0.00000000886 * Math.cos(5.16933736517 + 36.84918278771 * t);
-        Y0 += 0.00000000890 * Math.cos(5.17329864993 + 169.3363656495 * t);
-        Y0 += 0.00000000925 * Math.cos(1.82710060728 + 1486.2239385487 * t);
-        Y0 += 0.00000001156 * Math.cos(6.14753394741 + 16061.94070863329 * t);
-        Y0 += 0.00000000879 * Math.cos(4.09361898695 + 3355.0833381849 * t);
-        Y0 += 0.00000000965 * Math.cos(2.78306913812 + 11614.6771112157 * t);
-        Y0 += 0.00000000874 * Math.cos(5.05469151754 + 316.14805217309 * t);
-        Y0 += 0.00000000896 * Math.cos(2.06210457665 + 2067.68758358909 * t);
-        Y0 += 0.00000000856 * Math.cos(0.80926398517 + 6705.3471086309 * t);
-        Y0 += 0.00000001200 * Math.cos(3.92852893712 + 2971.1564282429 * t);
-        Y0 += 0.00000001091 * Math.cos(1.08913615837 + 9168.39708086389 * t);
-        Y0 += 0.00000000871 * Math.cos(5.25187070471 + 9380.71585523369 * t);
-        Y0 += 0.00000001070 * Math.cos(0.04151072339 + 426.3543733925 * t);
-        Y0 += 0.00000001039 * Math.cos(0.35358307489 + 4937.0426864679 * t);
-        Y0 += 0.00000000968 * Math.cos(5.15755434693 + 8959.1760490447 * t);
-        Y0 += 0.00000000852 * Math.cos(4.76295695220 + 8013.52355842391 * t);
-        Y0 += 0.00000000868 * Math.cos(2.65646874925 + 9947.2994990156 * t);
-        Y0 += 0.00000000890 * Math.cos(4.75713511878 + 6747.9560797975 * t);
-        Y0 += 0.00000000834 * Math.cos(0.81428487363 + 6681.0485947895 * t);
-        Y0 += 0.00000001025 * Math.cos(3.72815532687 + 3914.71340755109 * t);
-        Y0 += 0.00000000838 * Math.cos(5.14987130454 + 4672.42349675709 * t);
-        Y0 += 0.00000000872 * Math.cos(3.76405979215 + 11780.7341759997 * t);
-        Y0 += 0.00000000998 * Math.cos(0.20481558928 + 16335.59398705309 * t);
-        Y0 += 0.00000000814 * Math.cos(3.39899123402 + 16703.28869733031 * t);
-        Y0 += 0.00000001043 * Math.cos(2.49679055688 + 3492.7535252685 * t);
-        Y0 += 0.00000000878 * Math.cos(1.88614535376 + 3233.19272024471 * t);
-        Y0 += 0.00000000814 * Math.cos(5.42976286552 + 16703.3232046347 * t);
-        Y0 += 0.00000000821 * Math.cos(6.23923688826 + 3323.04372206531 * t);
-        Y0 += 0.00000000821 * Math.cos(6.16771533756 + 3358.6687663013 * t);
-        Y0 += 0.00000000861 * Math.cos(1.36508818725 + 170.4290531357 * t);
-        Y0 += 0.00000000895 * Math.cos(4.50998682743 + 8966.2222857427 * t);
-        Y0 += 0.00000000809 * Math.cos(3.69124787220 + 1045.3986536711 * t);
-        Y0 += 0.00000000986 * Math.cos(1.91297797873 + 9654.3691336535 * t);
-        Y0 += 0.00000000841 * Math.cos(5.34788356637 + 13745.10242153889 * t);
-        Y0 += 0.00000000792 * Math.cos(5.67453205333 + 7100.9533147583 * t);
-        Y0 += 0.00000000779 * Math.cos(1.71726390662 + 3499.7997619665 * t);
-        Y0 += 0.00000000841 * Math.cos(4.23757581300 + 3448.5197681219 * t);
-        Y0 += 0.00000000788 * Math.cos(4.57984307584 + 14422.0754544719 * t);
-        Y0 += 0.00000001013 * Math.cos(4.37752826226 + 8859.60639317511 * t);
-        Y0 += 0.00000001009 * Math.cos(5.94344429551 + 6657.59023313531 * t);
-        Y0 += 0.00000001030 * Math.cos(2.19490146324 + 3710.5560601237 * t);
-        Y0 += 0.00000000787 * Math.cos(3.72966883127 + 3308.88393836651 * t);
-        Y0 += 0.00000000787 * Math.cos(2.39409808737 + 3372.8285500001 * t);
-        Y0 += 0.00000000731 * Math.cos(4.80001676808 + 2803.56409712089 * t);
-        Y0 += 0.00000000725 * Math.cos(4.63534003691 + 3229.6696018957 * t);
-        Y0 += 0.00000000749 * Math.cos(3.40695752675 + 4356.5192620675 * t);
-        Y0 += 0.00000000720 * Math.cos(4.72118387969 + 3553.66770465429 * t);
-        Y0 += 0.00000000818 * Math.cos(4.94156802757 + 802.1201049627 * t);
-        Y0 += 0.00000000825 * Math.cos(4.27028104649 + 3253.5480396435 * t);
-        Y0 += 0.00000000793 * Math.cos(1.10166913023 + 11.2895177474 * t);
-        Y0 += 0.00000000864 * Math.cos(1.98924766986 + 6717.49653756051 * t);
-        Y0 += 0.00000000969 * Math.cos(3.71171404987 + 20198.85114214949 * t);
-        Y0 += 0.00000000917 * Math.cos(6.26799705299 + 4776.0039059427 * t);
-        Y0 += 0.00000000729 * Math.cos(0.68510465497 + 22743.16556203289 * t);
-        Y0 += 0.00000000730 * Math.cos(3.80010308022 + 1063.14886602171 * t);
-        Y0 += 0.00000000860 * Math.cos(4.68558303874 + 242.4847864905 * t);
-        Y0 += 0.00000000713 * Math.cos(5.54624640151 + 20597.0001455577 * t);
-        Y0 += 0.00000000694 * Math.cos(1.48839766697 + 3452.04288647091 * t);
-        Y0 += 0.00000000694 * Math.cos(2.41729529361 + 20426.8149099055 * t);
-        Y0 += 0.00000000972 * Math.cos(0.41619109344 + 13916.2629271251 * t);
-        Y0 += 0.00000000692 * Math.cos(2.36886353379 + 3068.1832868317 * t);
-        Y0 += 0.00000000730 * Math.cos(1.00717600200 + 6016.7126257531 * t);
-        Y0 += 0.00000000795 * Math.cos(1.85352942088 + 3428.16444872311 * t);
-        Y0 += 0.00000000686 * Math.cos(3.19891856733 + 7255.8134692179 * t);
-        Y0 += 0.00000000712 * Math.cos(4.03082610800 + 4143.2201666295 * t);
-        Y0 += 0.00000000727 * Math.cos(1.63727295965 + 2301.8296333929 * t);
-        Y0 += 0.00000000836 * Math.cos(2.10217259723 + 5642.4420600927 * t);
-        Y0 += 0.00000000672 * Math.cos(6.19148373326 + 2541.03511901791 * t);
-        Y0 += 0.00000000725 * Math.cos(2.24638635812 + 15907.0079441661 * t);
-        Y0 += 0.00000000723 * Math.cos(3.92559293798 + 3735.48212924251 * t);
-        Y0 += 0.00000000659 * Math.cos(3.53381720449 + 3929.4334362245 * t);
-        Y0 += 0.00000000752 * Math.cos(0.95478219114 + 401.91593924071 * t);
-        Y0 += 0.00000000790 * Math.cos(1.64321327327 + 10264.80970155691 * t);
-        Y0 += 0.00000000833 * Math.cos(4.84897766851 + 6040.10342853389 * t);
-        Y0 += 0.00000000652 * Math.cos(1.55854352865 + 3212.90471114871 * t);
-        Y0 += 0.00000000634 * Math.cos(1.60225347298 + 17101.4549543907 * t);
-        Y0 += 0.00000000636 * Math.cos(1.39983508111 + 17468.6113804619 * t);
-        Y0 += 0.00000000831 * Math.cos(1.33700488395 + 2409.4931573315 * t);
-        Y0 += 0.00000000670 * Math.cos(1.27561899722 + 15663.79170522509 * t);
-        Y0 += 0.00000000636 * Math.cos(2.42884882731 + 5938.4786103505 * t);
-        Y0 += 0.00000000767 * Math.cos(2.91814761459 + 16702.81831601549 * t);
-        Y0 += 0.00000000649 * Math.cos(4.45940266951 + 485.72823530609 * t);
-        Y0 += 0.00000000720 * Math.cos(2.60100369454 + 316.6356871401 * t);
-        Y0 += 0.00000000685 * Math.cos(2.60603829320 + 1437.41943168211 * t);
-        Y0 += 0.00000000874 * Math.cos(0.29522273247 + 3264.10253794069 * t);
-        Y0 += 0.00000000631 * Math.cos(2.35025144285 + 3351.9019444472 * t);
-        Y0 += 0.00000000631 * Math.cos(3.77351547579 + 3329.8105439194 * t);
-        Y0 += 0.00000000617 * Math.cos(3.73864973279 + 3613.52920153491 * t);
-        Y0 += 0.00000000631 * Math.cos(4.86274156896 + 3343.3990414641 * t);
-        Y0 += 0.00000000834 * Math.cos(5.98573063128 + 6681.88874697671 * t);
-        Y0 += 0.00000000618 * Math.cos(0.72391686286 + 6357.9632542257 * t);
-        Y0 += 0.00000000620 * Math.cos(5.79698007436 + 2301.34199842589 * t);
-        Y0 += 0.00000000619 * Math.cos(4.56320107291 + 3468.8077772179 * t);
-        Y0 += 0.00000000856 * Math.cos(4.36779410619 + 6254.38284504009 * t);
-        Y0 += 0.00000000779 * Math.cos(4.63361737844 + 22325.1488741929 * t);
-        Y0 += 0.00000000621 * Math.cos(2.12407908062 + 22345.0165586247 * t);
-        Y0 += 0.00000000683 * Math.cos(1.63122853655 + 3344.7883974464 * t);
-        Y0 += 0.00000000683 * Math.cos(4.49253838209 + 3336.92409092021 * t);
-        Y0 += 0.00000000637 * Math.cos(5.57539907470 + 151.2914873264 * t);
-        Y0 += 0.00000000600 * Math.cos(1.07842896250 + 3338.31344690251 * t);
-        Y0 += 0.00000000737 * Math.cos(3.73325950825 + 3116.0238135144 * t);
-        Y0 += 0.00000000843 * Math.cos(2.10475762774 + 24149.8362338615 * t);
-        Y0 += 0.00000000595 * Math.cos(3.87033280802 + 4039.6397574439 * t);
-        Y0 += 0.00000000621 * Math.cos(5.11737826788 + 10448.6792884589 * t);
-        Y0 += 0.00000000649 * Math.cos(4.60002553992 + 148.32254190981 * t);
-        Y0 += 0.00000000706 * Math.cos(2.94874370922 + 6718.0740361873 * t);
-        Y0 += 0.00000000615 * Math.cos(0.53197546397 + 1169.83206889211 * t);
-        Y0 += 0.00000000597 * Math.cos(2.20115039035 + 2494.77340943211 * t);
-        Y0 += 0.00000000580 * Math.cos(5.84100904608 + 3528.7813919459 * t);
-        Y0 += 0.00000000680 * Math.cos(4.34833986391 + 1990.5011995575 * t);
-        Y0 += 0.00000000593 * Math.cos(4.91377983956 + 9491.90249752129 * t);
-        Y0 += 0.00000000704 * Math.cos(1.04292136685 + 3547.5569814799 * t);
-        Y0 += 0.00000000602 * Math.cos(4.55116981040 + 6681.8985540098 * t);
-        Y0 += 0.00000000750 * Math.cos(1.36158314223 + 6020.2357441021 * t);
-        Y0 += 0.00000000672 * Math.cos(5.83404606009 + 6667.2415768815 * t);
-        Y0 += 0.00000000691 * Math.cos(5.87625321159 + 6679.9841981748 * t);
-        Y0 += 0.00000000644 * Math.cos(0.37424036712 + 4290.0318531531 * t);
-        Y0 += 0.00000000778 * Math.cos(1.28111197179 + 394.86970254271 * t);
-        Y0 += 0.00000000606 * Math.cos(4.18196277170 + 736.1203310153 * t);
-        Y0 += 0.00000000620 * Math.cos(0.82186565514 + 1265.81129610991 * t);
-        Y0 += 0.00000000610 * Math.cos(2.84065225726 + 18451.3223640495 * t);
-        Y0 += 0.00000000602 * Math.cos(1.33158682290 + 20.11150191529 * t);
-        Y0 += 0.00000000579 * Math.cos(3.37741350534 + 2391.1930002465 * t);
-        Y0 += 0.00000000574 * Math.cos(2.39068880559 + 9381.69617630189 * t);
-        Y0 += 0.00000000585 * Math.cos(0.31150564344 + 2170.7803578077 * t);
-        Y0 += 0.00000000610 * Math.cos(5.23035161420 + 9911.8747763635 * t);
-        Y0 += 0.00000000648 * Math.cos(1.07812115183 + 4133.6311326507 * t);
-        Y0 += 0.00000000583 * Math.cos(2.93573448932 + 8226.8226538619 * t);
-        Y0 += 0.00000000602 * Math.cos(2.63811772346 + 2854.8841913937 * t);
-        Y0 += 0.00000000555 * Math.cos(1.28385325545 + 16865.28495214769 * t);
-        Y0 += 0.00000000600 * Math.cos(3.16504307436 + 6725.18758318811 * t);
-        Y0 += 0.00000000766 * Math.cos(6.18120893749 + 4775.5162709757 * t);
-        Y0 += 0.00000000577 * Math.cos(6.22738837569 + 3184.9482097821 * t);
-        Y0 += 0.00000000587 * Math.cos(4.00048217600 + 3194.0445576597 * t);
-        Y0 += 0.00000000613 * Math.cos(2.32601770677 + 6549.9267091967 * t);
-        Y0 += 0.00000000696 * Math.cos(1.72938927515 + 19004.4041319249 * t);
-        Y0 += 0.00000000634 * Math.cos(2.56924738035 + 6510.7958002639 * t);
-        Y0 += 0.00000000634 * Math.cos(5.87239329301 + 52176.0501006319 * t);
-        Y0 += 0.00000000603 * Math.cos(0.76915482449 + 7896.20369020371 * t);
-        Y0 += 0.00000000658 * Math.cos(4.03985639725 + 4988.8153664137 * t);
-        Y0 += 0.00000000602 * Math.cos(2.24884569451 + 6681.0387877564 * t);
-        Y0 += 0.00000000520 * Math.cos(4.39804549459 + 6467.68194047809 * t);
-        Y0 += 0.00000000522 * Math.cos(3.85398776894 + 3339.67560153121 * t);
-        Y0 += 0.00000000522 * Math.cos(2.26977914970 + 3342.03688683541 * t);
-        Y0 += 0.00000000528 * Math.cos(6.13807593625 + 109.9625037359 * t);
-        Y0 += 0.00000000518 * Math.cos(1.01552893939 + 1588.82907780029 * t);
-        Y0 += 0.00000000553 * Math.cos(2.12188487764 + 3487.66793070691 * t);
-        Y0 += 0.00000000513 * Math.cos(5.35880279382 + 299.37021175271 * t);
-        Y0 += 0.00000000715 * Math.cos(6.24466223093 + 4503.3309485911 * t);
-        Y0 += 0.00000000511 * Math.cos(1.27403519504 + 16490.0068555445 * t);
-        Y0 += 0.00000000505 * Math.cos(3.26917825567 + 1063.55790093581 * t);
-        Y0 += 0.00000000698 * Math.cos(4.50778101632 + 43.9627297885 * t);
-        Y0 += 0.00000000609 * Math.cos(5.07257884137 + 3134.1555068867 * t);
-        Y0 += 0.00000000645 * Math.cos(0.91039586800 + 1641.08939271309 * t);
-        Y0 += 0.00000000542 * Math.cos(2.95381309465 + 1596.36294946531 * t);
-        Y0 += 0.00000000502 * Math.cos(0.81770246890 + 12323.17927852529 * t);
-        Y0 += 0.00000000569 * Math.cos(2.81477259914 + 7380.2521841437 * t);
-        Y0 += 0.00000000530 * Math.cos(5.77909278402 + 1699.5230339867 * t);
-        Y0 += 0.00000000491 * Math.cos(3.81613403345 + 11140.8368896857 * t);
-        Y0 += 0.00000000518 * Math.cos(0.78407846223 + 3443.46138343489 * t);
-        Y0 += 0.00000000545 * Math.cos(0.63879177759 + 2288.58786099491 * t);
-        Y0 += 0.00000000509 * Math.cos(4.40724325660 + 6813.0106325695 * t);
-        Y0 += 0.00000000489 * Math.cos(1.49622890471 + 13575.9926197207 * t);
-        Y0 += 0.00000000486 * Math.cos(5.88242172218 + 2274.3607669933 * t);
-        Y0 += 0.00000000579 * Math.cos(2.61247079255 + 10177.5014970171 * t);
-        Y0 += 0.00000000535 * Math.cos(3.39746553760 + 9072.90548861311 * t);
-        Y0 += 0.00000000536 * Math.cos(4.94179821214 + 3198.6776171471 * t);
-        Y0 += 0.00000000478 * Math.cos(4.20267589342 + 114.6429243969 * t);
-        Y0 += 0.00000000619 * Math.cos(3.39725211788 + 13207.27312484851 * t);
-        Y0 += 0.00000000527 * Math.cos(1.68494996905 + 3392.13658204571 * t);
-        Y0 += 0.00000000527 * Math.cos(4.43881694959 + 3289.5759063209 * t);
-        Y0 += 0.00000000491 * Math.cos(6.28008678733 + 3393.1165590961 * t);
-        Y0 += 0.00000000491 * Math.cos(6.12686543849 + 3288.5959292705 * t);
-        Y0 += 0.00000000518 * Math.cos(3.49246604080 + 3826.82829697291 * t);
-        Y0 += 0.00000000532 * Math.cos(0.09507953177 + 1055.6935944096 * t);
-        Y0 += 0.00000000475 * Math.cos(0.78614810441 + 8116.6163326425 * t);
-        Y0 += 0.00000000473 * Math.cos(1.65508157221 + 4297.14540015391 * t);
-        Y0 += 0.00000000483 * Math.cos(2.01690193894 + 131.29814420289 * t);
-        Y0 += 0.00000000483 * Math.cos(3.77260927689 + 3346.9221598131 * t);
-        Y0 += 0.00000000483 * Math.cos(2.35115764175 + 3334.79032855351 * t);
-        Y0 += 0.00000000460 * Math.cos(2.87268342392 + 2281.00393267929 * t);
-        Y0 += 0.00000000460 * Math.cos(0.84191179243 + 2280.9694253749 * t);
-        Y0 += 0.00000000488 * Math.cos(4.31100288665 + 5195.48854981791 * t);
-        Y0 += 0.00000000604 * Math.cos(5.04421729659 + 2373.8853667477 * t);
-        Y0 += 0.00000000491 * Math.cos(4.01235585068 + 11251.04321090511 * t);
-        Y0 += 0.00000000482 * Math.cos(4.40675290422 + 23.63462026429 * t);
-        Y0 += 0.00000000455 * Math.cos(2.71373528596 + 8962.7164210459 * t);
-        Y0 += 0.00000000455 * Math.cos(0.68296365446 + 8962.68191374151 * t);
-        Y0 += 0.00000000455 * Math.cos(1.64431901546 + 5408.78764525591 * t);
-        Y0 += 0.00000000458 * Math.cos(2.77929810066 + 6313.7567069537 * t);
-        Y0 += 0.00000000525 * Math.cos(5.13528927698 + 3535.8276286439 * t);
-        Y0 += 0.00000000506 * Math.cos(1.18176198510 + 3483.03487121951 * t);
-        Y0 += 0.00000000453 * Math.cos(2.02140364445 + 2957.9769656123 * t);
-        Y0 += 0.00000000633 * Math.cos(5.05095677926 + 2963.4826362675 * t);
-        Y0 += 0.00000000532 * Math.cos(3.95191769037 + 11773.13299403189 * t);
-        Y0 += 0.00000000502 * Math.cos(3.05311243509 + 5562.7128787803 * t);
-        Y0 += 0.00000000487 * Math.cos(4.09057830717 + 2548.0813557159 * t);
-        Y0 += 0.00000000604 * Math.cos(3.35425011302 + 3311.3644258799 * t);
-        Y0 += 0.00000000604 * Math.cos(2.76951680562 + 3370.34806248671 * t);
-        Y0 += 0.00000000448 * Math.cos(3.40867489514 + 13361.7132032145 * t);
-        Y0 += 0.00000000455 * Math.cos(0.48237701031 + 227.7199502725 * t);
-        Y0 += 0.00000000500 * Math.cos(0.96740158580 + 4819.7228182477 * t);
-        Y0 += 0.00000000452 * Math.cos(4.62081033720 + 6851.04885401611 * t);
-        Y0 += 0.00000000503 * Math.cos(4.80675483426 + 382.6354610875 * t);
-        Y0 += 0.00000000440 * Math.cos(3.12228465063 + 3565.2010398852 * t);
-        Y0 += 0.00000000607 * Math.cos(4.73491284511 + 5195.0009148509 * t);
-        Y0 += 0.00000000477 * Math.cos(4.42588307343 + 4379.8828549737 * t);
-        Y0 += 0.00000000468 * Math.cos(3.75342014790 + 4186.9390789345 * t);
-        Y0 += 0.00000000474 * Math.cos(3.15640219800 + 2295.2137730287 * t);
-        Y0 += 0.00000000430 * Math.cos(0.16985042547 + 4716.63004402911 * t);
-        Y0 += 0.00000000536 * Math.cos(1.82311510964 + 860.55374623631 * t);
-        Y0 += 0.00000000561 * Math.cos(4.78984838350 + 4272.21933103511 * t);
-        Y0 += 0.00000000427 * Math.cos(2.36245310678 + 1575.08961876571 * t);
-        Y0 += 0.00000000456 * Math.cos(1.82684055018 + 10006.8286263979 * t);
-        Y0 += 0.00000000455 * Math.cos(5.22517487437 + 1854.38848815109 * t);
-        Y0 += 0.00000000421 * Math.cos(1.90113123366 + 5753.6287023803 * t);
-        Y0 += 0.00000000539 * Math.cos(0.59511976462 + 3185.5031550519 * t);
-        Y0 += 0.00000000440 * Math.cos(1.27528067077 + 5490.5447790075 * t);
-        Y0 += 0.00000000411 * Math.cos(5.01909523285 + 2480.0586804635 * t);
-        Y0 += 0.00000000433 * Math.cos(2.49733426085 + 3376.41897865191 * t);
-        Y0 += 0.00000000433 * Math.cos(3.62643265779 + 3305.2935097147 * t);
-        Y0 += 0.00000000448 * Math.cos(2.04099456040 + 8955.09798542589 * t);
-        Y0 += 0.00000000416 * Math.cos(1.09710711150 + 23539.46356884929 * t);
-        Y0 += 0.00000000423 * Math.cos(5.65906920843 + 10037.33356876791 * t);
-        Y0 += 0.00000000481 * Math.cos(5.74335395262 + 6685.4008241462 * t);
-        Y0 += 0.00000000538 * Math.cos(3.23793676740 + 6637.7497585781 * t);
-        Y0 += 0.00000000403 * Math.cos(2.02612411802 + 394.38206757569 * t);
-        Y0 += 0.00000000414 * Math.cos(1.17693488584 + 3016.86319255889 * t);
-        Y0 += 0.00000000402 * Math.cos(0.22194565664 + 6151.7949594407 * t);
-        Y0 += 0.00000000403 * Math.cos(1.22347336809 + 18849.4713674577 * t);
-        Y0 += 0.00000000402 * Math.cos(4.47435933232 + 6151.76045213631 * t);
-        Y0 += 0.00000000430 * Math.cos(0.28363407761 + 2655.8121899573 * t);
-        Y0 += 0.00000000435 * Math.cos(3.75918117164 + 9375.0702642681 * t);
-        Y0 += 0.00000000509 * Math.cos(5.52869427682 + 3496.20933331471 * t);
-        Y0 += 0.00000000548 * Math.cos(3.91428551746 + 10184.5477337151 * t);
-        Y0 += 0.00000000397 * Math.cos(4.10299095794 + 3723.7355227543 * t);
-        Y0 += 0.00000000406 * Math.cos(1.72717369149 + 5750.1055840313 * t);
-        Y0 += 0.00000000477 * Math.cos(2.15054075988 + 6614.9812619687 * t);
-        Y0 += 0.00000000555 * Math.cos(1.07130235791 + 3718.2298520991 * t);
-        Y0 += 0.00000000425 * Math.cos(4.00063826739 + 7218.2731829785 * t);
-        Y0 += 0.00000000408 * Math.cos(4.56425141121 + 2149.4447173407 * t);
-        Y0 += 0.00000000402 * Math.cos(2.74166202579 + 1685.2959399851 * t);
-        Y0 += 0.00000000411 * Math.cos(2.85798674880 + 21265.7669440037 * t);
-        Y0 += 0.00000000486 * Math.cos(3.27620484219 + 10050.5302850507 * t);
-        Y0 += 0.00000000394 * Math.cos(6.14977322791 + 5888.6937824157 * t);
-        Y0 += 0.00000000487 * Math.cos(3.87437323970 + 1655.3164867147 * t);
-        Y0 += 0.00000000421 * Math.cos(1.96410911700 + 13518.1139237169 * t);
-        Y0 += 0.00000000395 * Math.cos(5.59740113398 + 7366.02509014209 * t);
-        Y0 += 0.00000000392 * Math.cos(5.68366955363 + 17655.0243572331 * t);
-        Y0 += 0.00000000443 * Math.cos(5.46161131426 + 2075.28876555691 * t);
-        Y0 += 0.00000000404 * Math.cos(3.65562985264 + 6644.86330557891 * t);
-        Y0 += 0.00000000381 * Math.cos(0.21743768465 + 15805.90302195849 * t);
-        Y0 += 0.00000000414 * Math.cos(0.69800253256 + 7747.96414807311 * t);
-        Y0 += 0.00000000395 * Math.cos(3.07042234810 + 18606.25512851669 * t);
-        Y0 += 0.00000000377 * Math.cos(4.47773098550 + 8564.5501639855 * t);
-        Y0 += 0.00000000475 * Math.cos(4.76974627664 + 7380.7398191107 * t);
-        Y0 += 0.00000000378 * Math.cos(1.07675159263 + 9801.6684551441 * t);
-        Y0 += 0.00000000430 * Math.cos(1.20468421989 + 905.2128791813 * t);
-        Y0 += 0.00000000384 * Math.cos(2.67566931580 + 3205.30352918089 * t);
-        Y0 += 0.00000000444 * Math.cos(3.40061961754 + 2277.054525764 * t);
-        Y0 += 0.00000000397 * Math.cos(5.66561964068 + 515.70768857651 * t);
-        Y0 += 0.00000000471 * Math.cos(4.30501104270 + 7270.5334978913 * t);
-        Y0 += 0.00000000367 * Math.cos(3.33137641644 + 912.32642618209 * t);
-        Y0 += 0.00000000430 * Math.cos(0.32262969033 + 5881.6475457177 * t);
-        Y0 += 0.00000000469 * Math.cos(2.72446532167 + 7270.04586292429 * t);
-        Y0 += 0.00000000433 * Math.cos(0.33076022458 + 2284.9188322902 * t);
-        Y0 += 0.00000000438 * Math.cos(3.55000511645 + 9797.73630188101 * t);
-        Y0 += 0.00000000506 * Math.cos(4.47192742031 + 1765.5228079341 * t);
-        Y0 += 0.00000000360 * Math.cos(1.93729428971 + 20736.0759789091 * t);
-        Y0 += 0.00000000395 * Math.cos(4.03209674497 + 7697.1316887673 * t);
-        Y0 += 0.00000000364 * Math.cos(1.26222637443 + 3341.3489302845 * t);
-        Y0 += 0.00000000379 * Math.cos(6.25338112517 + 5641.9544251257 * t);
-        Y0 += 0.00000000476 * Math.cos(2.98235844735 + 1329.75590774351 * t);
-        Y0 += 0.00000000473 * Math.cos(3.88576512895 + 21795.4579090983 * t);
-        Y0 += 0.00000000351 * Math.cos(4.13570973701 + 6852.1415415023 * t);
-        Y0 += 0.00000000351 * Math.cos(3.11111844946 + 2547.5937207489 * t);
-        Y0 += 0.00000000452 * Math.cos(0.50802021686 + 6107.1238725483 * t);
-        Y0 += 0.00000000344 * Math.cos(5.36725846777 + 16894.7542170941 * t);
-        Y0 += 0.00000000364 * Math.cos(0.71572042055 + 6682.9531435914 * t);
-        Y0 += 0.00000000344 * Math.cos(1.77948057276 + 5483.4985423095 * t);
-        Y0 += 0.00000000372 * Math.cos(3.08550618514 + 1.22413855171 * t);
-        Y0 += 0.00000000452 * Math.cos(1.07299009125 + 4307.8271216189 * t);
-        Y0 += 0.00000000349 * Math.cos(2.40546715957 + 5636.3138346955 * t);
-        Y0 += 0.00000000362 * Math.cos(5.00528267092 + 27681.89692667289 * t);
-        Y0 += 0.00000000376 * Math.cos(6.22222472073 + 3339.38828814809 * t);
-        Y0 += 0.00000000347 * Math.cos(2.47924829765 + 25685.62898532449 * t);
-        Y0 += 0.00000000351 * Math.cos(2.80467267603 + 5452.50655756091 * t);
-        Y0 += 0.00000000348 * Math.cos(1.66710324635 + 16865.7725871147 * t);
-        Y0 += 0.00000000345 * Math.cos(3.95198013706 + 25287.47998191629 * t);
-        Y0 += 0.00000000358 * Math.cos(3.05433541689 + 14584.05445563709 * t);
-        Y0 += 0.00000000336 * Math.cos(4.55900012579 + 1882.83767561889 * t);
-        Y0 += 0.00000000436 * Math.cos(3.55215974621 + 21946.86755521649 * t);
-        Y0 += 0.00000000434 * Math.cos(0.32562428989 + 7214.68275432671 * t);
-        Y0 += 0.00000000395 * Math.cos(4.16776570158 + 9993.6319101151 * t);
-        Y0 += 0.00000000351 * Math.cos(0.12634120978 + 13213.1303271481 * t);
-        Y0 += 0.00000000327 * Math.cos(4.04880436765 + 3354.0980165813 * t);
-        Y0 += 0.00000000327 * Math.cos(2.07496255099 + 3327.61447178531 * t);
-        Y0 += 0.00000000361 * Math.cos(0.39938152102 + 3.34661116829 * t);
-        Y0 += 0.00000000328 * Math.cos(6.15068258009 + 2435.3995475185 * t);
-        Y0 += 0.00000000447 * Math.cos(4.74470130101 + 13363.67384535091 * t);
-        Y0 += 0.00000000389 * Math.cos(1.05447612688 + 30065.7556577817 * t);
-        Y0 += 0.00000000326 * Math.cos(5.67270447514 + 3264.59017290771 * t);
-        Y0 += 0.00000000395 * Math.cos(1.75358681150 + 3337.4004361371 * t);
-        Y0 += 0.00000000339 * Math.cos(4.51134098176 + 14557.1405345073 * t);
-        Y0 += 0.00000000334 * Math.cos(4.48543603219 + 147.0555040071 * t);
-        Y0 += 0.00000000335 * Math.cos(2.36305281420 + 20617.77554105009 * t);
-        Y0 += 0.00000000347 * Math.cos(4.05789606388 + 5223.93773728571 * t);
-        Y0 += 0.00000000344 * Math.cos(5.86233733820 + 4025.9002984093 * t);
-        Y0 += 0.00000000314 * Math.cos(4.43830632328 + 4142.7325316625 * t);
-        Y0 += 0.00000000347 * Math.cos(5.76229830621 + 3265.587010649 * t);
-        Y0 += 0.00000000408 * Math.cos(6.10494233727 + 11883.8269502183 * t);
-        Y0 += 0.00000000317 * Math.cos(2.10770348226 + 3347.4821562171 * t);
-        Y0 += 0.00000000335 * Math.cos(1.82753658277 + 544.1618765797 * t);
-        Y0 += 0.00000000345 * Math.cos(3.53624871536 + 5244.2930566845 * t);
-        Y0 += 0.00000000318 * Math.cos(1.06713363481 + 12302.8239591265 * t);
-        Y0 += 0.00000000384 * Math.cos(4.30168263627 + 7733.7370540715 * t);
-        Y0 += 0.00000000402 * Math.cos(0.39385834298 + 8982.5668518255 * t);
-        Y0 += 0.00000000409 * Math.cos(5.51884193886 + 23141.3145654411 * t);
-        Y0 += 0.00000000335 * Math.cos(2.75373542682 + 3061.06973983091 * t);
-        Y0 += 0.00000000415 * Math.cos(3.99882051146 + 12509.4971425307 * t);
-        Y0 += 0.00000000355 * Math.cos(6.17230823937 + 7322.34627826531 * t);
-        Y0 += 0.00000000316 * Math.cos(5.59149424389 + 3440.4259000529 * t);
-        Y0 += 0.00000000316 * Math.cos(0.53227267475 + 3241.28658831371 * t);
-        Y0 += 0.00000000354 * Math.cos(0.64235154390 + 4606.4237228097 * t);
-        Y0 += 0.00000000347 * Math.cos(1.05728075170 + 14127.99895376209 * t);
-        Y0 += 0.00000000310 * Math.cos(5.64292624067 + 6453.9925380941 * t);
-        Y0 += 0.00000000300 * Math.cos(2.21739482474 + 1987.4657161755 * t);
-        Y0 += 0.00000000304 * Math.cos(2.64756651462 + 15265.64270181689 * t);
-        Y0 += 0.00000000299 * Math.cos(4.05929485456 + 10285.1650209557 * t);
-        Y0 += 0.00000000379 * Math.cos(2.28257510001 + 1461.29786942991 * t);
-        Y0 += 0.00000000294 * Math.cos(1.92173439518 + 20040.3952593333 * t);
-        Y0 += 0.00000000295 * Math.cos(3.55293055978 + 2487.6598624313 * t);
-        Y0 += 0.00000000313 * Math.cos(1.30385633562 + 6286.84278582391 * t);
-        Y0 += 0.00000000307 * Math.cos(6.22295802105 + 9755.4740558611 * t);
-        Y0 += 0.00000000306 * Math.cos(4.47605572395 + 8756.5136189565 * t);
-        Y0 += 0.00000000313 * Math.cos(0.32862784398 + 4982.18945437991 * t);
-        Y0 += 0.00000000392 * Math.cos(1.48237112438 + 19645.7693742741 * t);
-        Y0 += 0.00000000361 * Math.cos(1.46103489347 + 684.8002367425 * t);
-        Y0 += 0.00000000328 * Math.cos(4.08465891668 + 3284.0529820135 * t);
-        Y0 += 0.00000000328 * Math.cos(2.03910800196 + 3397.6595063531 * t);
-        Y0 += 0.00000000291 * Math.cos(0.90669086212 + 11986.91972443691 * t);
-        Y0 += 0.00000000341 * Math.cos(4.17468651117 + 18053.1733606413 * t);
-        Y0 += 0.00000000345 * Math.cos(3.44122421521 + 16063.4086646685 * t);
-        Y0 += 0.00000000314 * Math.cos(2.64774700056 + 9983.9480619451 * t);
-        Y0 += 0.00000000331 * Math.cos(1.83529030284 + 6680.99828956829 * t);
-        Y0 += 0.00000000329 * Math.cos(2.14259666141 + 2277.95119564511 * t);
-        Y0 += 0.00000000301 * Math.cos(2.60539384966 + 1251.0740137843 * t);
-        Y0 += 0.00000000339 * Math.cos(5.86444938845 + 2825.39237309031 * t);
-        Y0 += 0.00000000339 * Math.cos(0.25931753019 + 3856.3201152763 * t);
-        Y0 += 0.00000000383 * Math.cos(3.28646629882 + 2921.9318452827 * t);
-        Y0 += 0.00000000302 * Math.cos(4.92028257129 + 12825.8890121873 * t);
-        Y0 += 0.00000000310 * Math.cos(0.61442486331 + 2060.5740365883 * t);
-        Y0 += 0.00000000310 * Math.cos(2.29827810873 + 5622.1039943461 * t);
-        Y0 += 0.00000000292 * Math.cos(0.82350537881 + 17256.8753538249 * t);
-        Y0 += 0.00000000286 * Math.cos(4.10458531999 + 279.5426868689 * t);
-        Y0 += 0.00000000330 * Math.cos(6.18523353093 + 1073.85284167431 * t);
-        Y0 += 0.00000000382 * Math.cos(1.17991122952 + 3267.5591183243 * t);
-        Y0 += 0.00000000382 * Math.cos(4.94385568912 + 3414.1533700423 * t);
-        Y0 += 0.00000000304 * Math.cos(3.37215064995 + 3620.6427485357 * t);
-        Y0 += 0.00000000326 * Math.cos(5.37060215981 + 533.8669358412 * t);
-        Y0 += 0.00000000322 * Math.cos(2.89731305468 + 2388.6502029657 * t);
-        Y0 += 0.00000000289 * Math.cos(1.22024545508 + 36.27168416091 * t);
-        Y0 += 0.00000000287 * Math.cos(5.56455691642 + 5511.8804194745 * t);
-        Y0 += 0.00000000283 * Math.cos(1.21251617045 + 12840.1161061889 * t);
-        Y0 += 0.00000000358 * Math.cos(6.21940014383 + 568.5780565439 * t);
-        Y0 += 0.00000000282 * Math.cos(3.87783929607 + 595.9345565255 * t);
-        Y0 += 0.00000000380 * Math.cos(1.92054508917 + 2973.63191522091 * t);
-        Y0 += 0.00000000283 * Math.cos(4.53197273536 + 9859.6144614507 * t);
-        Y0 += 0.00000000269 * Math.cos(0.82453120759 + 15636.8104737925 * t);
-        Y0 += 0.00000000280 * Math.cos(0.42006444847 + 16511.8576848709 * t);
-        Y0 += 0.00000000296 * Math.cos(0.76548268882 + 1.24065522479 * t);
-        Y0 += 0.00000000300 * Math.cos(2.59187768206 + 13525.1601604149 * t);
-        Y0 += 0.00000000331 * Math.cos(6.08770397853 + 6680.9637822639 * t);
-        Y0 += 0.00000000310 * Math.cos(0.26750647724 + 5622.06948704171 * t);
-        Y0 += 0.00000000323 * Math.cos(0.38705213166 + 2266.7595850255 * t);
-        Y0 += 0.00000000284 * Math.cos(3.18215717131 + 5085.3495389013 * t);
-        Y0 += 0.00000000320 * Math.cos(1.27027711736 + 10720.8646108435 * t);
-        Y0 += 0.00000000317 * Math.cos(4.93342158277 + 6048.1972966029 * t);
-        Y0 += 0.00000000269 * Math.cos(2.88951641275 + 2744.6778701743 * t);
-        Y0 += 0.00000000318 * Math.cos(2.18392341590 + 526.00262931501 * t);
-        Y0 += 0.00000000257 * Math.cos(4.63373345906 + 24341.28449997309 * t);
-        Y0 += 0.00000000266 * Math.cos(0.45979732691 + 206.9445547801 * t);
-        Y0 += 0.00000000258 * Math.cos(1.79534054581 + 8749.4000719557 * t);
-        Y0 += 0.00000000271 * Math.cos(2.27668459594 + 3345.42699390331 * t);
-        Y0 += 0.00000000271 * Math.cos(3.84708232270 + 3336.2854944633 * t);
-        Y0 += 0.00000000301 * Math.cos(4.71479959051 + 10706.63751684189 * t);
-        Y0 += 0.00000000251 * Math.cos(3.96861026556 + 3343.9592864387 * t);
-        Y0 += 0.00000000251 * Math.cos(2.15515665308 + 3337.75320192791 * t);
-        Y0 += 0.00000000251 * Math.cos(3.37159956977 + 9758.9971742101 * t);
-        Y0 += 0.00000000267 * Math.cos(0.96036007447 + 6831.0318680177 * t);
-        Y0 += 0.00000000306 * Math.cos(1.36129297092 + 12012.8261146239 * t);
-        Y0 += 0.00000000249 * Math.cos(6.28103476480 + 4246.3129408481 * t);
-        Y0 += 0.00000000286 * Math.cos(4.90464379613 + 1898.5950354231 * t);
-        Y0 += 0.00000000320 * Math.cos(5.23732353360 + 536.5606946119 * t);
-        Y0 += 0.00000000290 * Math.cos(1.30201044096 + 20047.4414960313 * t);
-        Y0 += 0.00000000268 * Math.cos(1.47703232305 + 16703.23864067971 * t);
-        Y0 += 0.00000000250 * Math.cos(0.95355486070 + 9698.5756809255 * t);
-        Y0 += 0.00000000248 * Math.cos(1.11014026714 + 4534.81561944089 * t);
-        Y0 += 0.00000000246 * Math.cos(3.89895295515 + 15651.03756779411 * t);
-        Y0 += 0.00000000309 * Math.cos(0.93773869004 + 1903.19299501769 * t);
-        Y0 += 0.00000000247 * Math.cos(5.73950808020 + 10016.5581732755 * t);
-        Y0 += 0.00000000262 * Math.cos(0.38159181599 + 4025.4126634423 * t);
-        Y0 += 0.00000000312 * Math.cos(2.02014523279 + 6033.9702026013 * t);
-        Y0 += 0.00000000245 * Math.cos(2.61302130597 + 2939.1841224261 * t);
-        Y0 += 0.00000000317 * Math.cos(3.62639597567 + 95.7354097343 * t);
-        Y0 += 0.00000000256 * Math.cos(1.57197883241 + 1727.90491115171 * t);
-        Y0 += 0.00000000330 * Math.cos(2.97758477159 + 735.6326960483 * t);
-        Y0 += 0.00000000276 * Math.cos(4.96569192497 + 6670.4229706192 * t);
-        Y0 += 0.00000000321 * Math.cos(5.04537384488 + 11905.1625906853 * t);
-        Y0 += 0.00000000252 * Math.cos(3.55325819855 + 5430.63847458231 * t);
-        Y0 += 0.00000000252 * Math.cos(4.89937019626 + 21548.7185518083 * t);
-        Y0 += 0.00000000237 * Math.cos(2.58555430531 + 194.7275669771 * t);
-        Y0 += 0.00000000258 * Math.cos(2.68892316362 + 9488.8670141393 * t);
-        Y0 += 0.00000000269 * Math.cos(1.83869068629 + 3867.0240909289 * t);
-        Y0 += 0.00000000265 * Math.cos(2.90622523535 + 3053.89388306271 * t);
-        Y0 += 0.00000000240 * Math.cos(1.73397693635 + 10027.6040218903 * t);
-        Y0 += 0.00000000321 * Math.cos(2.82877270353 + 3759.7806430839 * t);
-        Y0 += 0.00000000319 * Math.cos(3.59115855791 + 9815.8955491457 * t);
-        Y0 += 0.00000000251 * Math.cos(0.12299632037 + 1280.0383901115 * t);
-        Y0 += 0.00000000239 * Math.cos(2.92878889718 + 26481.92699214089 * t);
-        Y0 += 0.00000000251 * Math.cos(5.02028762471 + 2790.80995968991 * t);
-        Y0 += 0.00000000326 * Math.cos(4.20511206757 + 3708.0805731457 * t);
-        Y0 += 0.00000000235 * Math.cos(3.75339605407 + 5106.6228696009 * t);
-        Y0 += 0.00000000293 * Math.cos(0.11701788048 + 5628.7126527277 * t);
-        Y0 += 0.00000000323 * Math.cos(4.87018010930 + 17086.2024832057 * t);
-        Y0 += 0.00000000311 * Math.cos(0.12778675025 + 3290.0237848775 * t);
-        Y0 += 0.00000000311 * Math.cos(5.99598016839 + 3391.68870348911 * t);
-        Y0 += 0.00000000242 * Math.cos(3.46289647182 + 4996.4165483815 * t);
-        Y0 += 0.00000000233 * Math.cos(5.27407567581 + 2679.13568243529 * t);
-        Y0 += 0.00000000230 * Math.cos(1.62592473181 + 10654.8648368961 * t);
-        Y0 += 0.00000000292 * Math.cos(5.65394034305 + 3050.3707647137 * t);
-        Y0 += 0.00000000230 * Math.cos(0.59794722074 + 1744.24947723449 * t);
-        Y0 += 0.00000000235 * Math.cos(2.10323754397 + 5945.5921573513 * t);
-        Y0 += 0.00000000301 * Math.cos(2.35280602608 + 9495.9132508373 * t);
-        Y0 += 0.00000000318 * Math.cos(1.27137347197 + 2907.1445063065 * t);
-        Y0 += 0.00000000229 * Math.cos(4.79342389836 + 5.2791068239 * t);
-        Y0 += 0.00000000248 * Math.cos(1.94277588124 + 1442.0173912767 * t);
-        Y0 += 0.00000000226 * Math.cos(5.71133491731 + 1868.6155821527 * t);
-        Y0 += 0.00000000234 * Math.cos(5.14378230022 + 2817.7911911225 * t);
-        Y0 += 0.00000000230 * Math.cos(0.30903741658 + 4245.82530588109 * t);
-        Y0 += 0.00000000312 * Math.cos(4.22313838923 + 4403.76129272151 * t);
-        Y0 += 0.00000000222 * Math.cos(1.20476435440 + 1835.56843509031 * t);
-        Y0 += 0.00000000277 * Math.cos(4.35456944772 + 7079.1300393243 * t);
-        Y0 += 0.00000000289 * Math.cos(0.65812694051 + 6901.8813133219 * t);
-        Y0 += 0.00000000244 * Math.cos(2.21534433966 + 5349.4137833423 * t);
-        Y0 += 0.00000000268 * Math.cos(1.06853593620 + 16703.3732612853 * t);
-        Y0 += 0.00000000250 * Math.cos(3.14710986353 + 187.68133027909 * t);
-        Y0 += 0.00000000220 * Math.cos(2.74511541811 + 6511.88848775011 * t);
-        Y0 += 0.00000000224 * Math.cos(6.18440878701 + 3138.6028490092 * t);
-        Y0 += 0.00000000224 * Math.cos(6.22254343881 + 3543.1096393574 * t);
-        Y0 += 0.00000000234 * Math.cos(0.06073372993 + 17499.6039577989 * t);
-        Y0 += 0.00000000256 * Math.cos(4.03736586899 + 367.4681464459 * t);
-        Y0 += 0.00000000272 * Math.cos(3.51718028747 + 2428.2860005177 * t);
-        Y0 += 0.00000000218 * Math.cos(1.49669828918 + 2786.7992063739 * t);
-        Y0 += 0.00000000218 * Math.cos(5.88795359173 + 6283.3369211271 * t);
-        Y0 += 0.00000000270 * Math.cos(0.24554568359 + 11236.8161169035 * t);
-        Y0 += 0.00000000218 * Math.cos(3.85718196023 + 6283.3024138227 * t);
-        Y0 += 0.00000000220 * Math.cos(3.19713485655 + 3987.86707749811 * t);
-        Y0 += 0.00000000238 * Math.cos(5.93039570689 + 2814.68839743771 * t);
-        Y0 += 0.00000000222 * Math.cos(0.36863892862 + 1368.9040703285 * t);
-        Y0 += 0.00000000215 * Math.cos(5.15532893112 + 13383.4689197751 * t);
-        Y0 += 0.00000000224 * Math.cos(2.11557791608 + 77.9943614674 * t);
-        Y0 += 0.00000000221 * Math.cos(3.24073834180 + 3937.0346181923 * t);
-        Y0 += 0.00000000226 * Math.cos(2.56787172746 + 9279.0910370503 * t);
-        Y0 += 0.00000000256 * Math.cos(3.53846540374 + 10596.4258959177 * t);
-        Y0 += 0.00000000211 * Math.cos(5.04095056660 + 12200.2188198749 * t);
-        Y0 += 0.00000000212 * Math.cos(0.14549328098 + 2392.66095628171 * t);
-        Y0 += 0.00000000216 * Math.cos(3.15925655175 + 12928.98178640591 * t);
-        Y0 += 0.00000000237 * Math.cos(3.21754149899 + 3627.8186053039 * t);
-        Y0 += 0.00000000220 * Math.cos(0.54824595868 + 6530.4210010402 * t);
-        Y0 += 0.00000000213 * Math.cos(6.27747523577 + 1484.68867221069 * t);
-        Y0 += 0.00000000262 * Math.cos(1.78468856574 + 20.5315780089 * t);
-        Y0 += 0.00000000254 * Math.cos(5.82038398953 + 19146.51544865829 * t);
-        Y0 += 0.00000000222 * Math.cos(5.95630142513 + 8166.4011605773 * t);
-        Y0 += 0.00000000263 * Math.cos(5.32304904255 + 4531.7801360589 * t);
-        Y0 += 0.00000000249 * Math.cos(2.58332253923 + 3084.88586781131 * t);
-        Y0 += 0.00000000239 * Math.cos(4.03784097782 + 5095.9188939483 * t);
-        Y0 += 0.00000000239 * Math.cos(4.03784097782 + 5095.4312589813 * t);
-        Y0 += 0.00000000270 * Math.cos(5.38756181061 + 24889.33097850809 * t);
-        Y0 += 0.00000000252 * Math.cos(3.08379591840 + 3299.3054531985 * t);
-        Y0 += 0.00000000252 * Math.cos(3.03997100024 + 3382.4070351681 * t);
-        Y0 += 0.00000000207 * Math.cos(2.83288102556 + 5618.1545874308 * t);
-        Y0 += 0.00000000239 * Math.cos(1.63889533266 + 3344.31205222951 * t);
-        Y0 += 0.00000000262 * Math.cos(0.46943815181 + 3631.3417236529 * t);
-        Y0 += 0.00000000206 * Math.cos(1.80106246742 + 7083.14079264031 * t);
-        Y0 += 0.00000000249 * Math.cos(0.73301708654 + 2149.9323523077 * t);
-        Y0 += 0.00000000210 * Math.cos(5.81059147043 + 6678.7171602721 * t);
-        Y0 += 0.00000000255 * Math.cos(1.55366452384 + 1994.51195287351 * t);
-        Y0 += 0.00000000204 * Math.cos(3.91362001245 + 4694.2467721911 * t);
-        Y0 += 0.00000000274 * Math.cos(4.79397197037 + 12306.8347124425 * t);
-        Y0 += 0.00000000262 * Math.cos(0.46979570624 + 532.9702659601 * t);
-        Y0 += 0.00000000214 * Math.cos(4.33780097919 + 9623.4444592077 * t);
-        Y0 += 0.00000000246 * Math.cos(6.01432530866 + 151.65346360169 * t);
-        Y0 += 0.00000000223 * Math.cos(2.98859743190 + 3345.2182805731 * t);
-        Y0 += 0.00000000223 * Math.cos(3.13516948674 + 3336.4942077935 * t);
-        Y0 += 0.00000000255 * Math.cos(5.28917502113 + 2942.7244944273 * t);
-        Y0 += 0.00000000224 * Math.cos(1.52423467945 + 6533.3899464568 * t);
-        Y0 += 0.00000000245 * Math.cos(5.50271392619 + 2142.39848064269 * t);
-        Y0 += 0.00000000201 * Math.cos(5.35589690383 + 9360.8481708019 * t);
-        Y0 += 0.00000000282 * Math.cos(1.08698948224 + 12465.29059525869 * t);
-        Y0 += 0.00000000199 * Math.cos(3.26141559083 + 3030.01544531491 * t);
-        Y0 += 0.00000000243 * Math.cos(4.23645604083 + 9329.9234963561 * t);
-        Y0 += 0.00000000233 * Math.cos(6.03479083951 + 5834.8982011649 * t);
-        Y0 += 0.00000000205 * Math.cos(4.30285175798 + 7167.4407236727 * t);
-        Y0 += 0.00000000199 * Math.cos(0.26993000031 + 2957.4720769931 * t);
-        Y0 += 0.00000000220 * Math.cos(6.00177151459 + 5626.018893957 * t);
-        Y0 += 0.00000000197 * Math.cos(4.96967459654 + 3244.8770169655 * t);
-        Y0 += 0.00000000197 * Math.cos(1.15409232210 + 3436.8354714011 * t);
-        Y0 += 0.00000000200 * Math.cos(1.76538096369 + 6567.0695639697 * t);
-        Y0 += 0.00000000231 * Math.cos(2.63984097637 + 6654.0671147863 * t);
-        Y0 += 0.00000000228 * Math.cos(5.88325894864 + 3319.59321372389 * t);
-        Y0 += 0.00000000206 * Math.cos(4.62181012252 + 7483.3449583623 * t);
-        Y0 += 0.00000000206 * Math.cos(4.62181012252 + 7483.8325933293 * t);
-        Y0 += 0.00000000198 * Math.cos(3.92135089796 + 3094.6045218603 * t);
-        Y0 += 0.00000000215 * Math.cos(4.11109862806 + 2540.5474840509 * t);
-        Y0 += 0.00000000223 * Math.cos(3.01290266414 + 13341.9181287903 * t);
-        Y0 += 0.00000000199 * Math.cos(5.43950846422 + 2409.00552236449 * t);
-        Y0 += 0.00000000192 * Math.cos(0.74649040425 + 6382.3422766139 * t);
-        Y0 += 0.00000000205 * Math.cos(1.10304172891 + 3890.9025286767 * t);
-        Y0 += 0.00000000191 * Math.cos(0.61853752731 + 2928.4851473089 * t);
-        Y0 += 0.00000000191 * Math.cos(5.50522939133 + 3753.22734105771 * t);
-        Y0 += 0.00000000193 * Math.cos(1.07910361151 + 117.5636857037 * t);
-        Y0 += 0.00000000194 * Math.cos(4.47708903791 + 18208.1061251085 * t);
-        Y0 += 0.00000000197 * Math.cos(1.06976954616 + 20206.3850138145 * t);
-        Y0 += 0.00000000194 * Math.cos(4.32410611780 + 28628.09240861609 * t);
-        Y0 += 0.00000000212 * Math.cos(4.83851003745 + 4538.8263727569 * t);
-        Y0 += 0.00000000192 * Math.cos(4.11577520914 + 3365.71500299931 * t);
-        Y0 += 0.00000000192 * Math.cos(2.00799170950 + 3315.9974853673 * t);
-        Y0 += 0.00000000218 * Math.cos(1.22674306878 + 2142.8861156097 * t);
-        Y0 += 0.00000000226 * Math.cos(3.54046676510 + 3596.8266205553 * t);
-        Y0 += 0.00000000253 * Math.cos(5.60084432635 + 5415.9011922567 * t);
-        Y0 += 0.00000000187 * Math.cos(0.19756321336 + 15107.1195086979 * t);
-        Y0 += 0.00000000207 * Math.cos(4.52254146385 + 419.2408263917 * t);
-        Y0 += 0.00000000255 * Math.cos(3.25840338963 + 2942.6899871229 * t);
-        Y0 += 0.00000000191 * Math.cos(0.88275042024 + 10544.6585156767 * t);
-        Y0 += 0.00000000190 * Math.cos(5.78004681928 + 28229.94340520789 * t);
-        Y0 += 0.00000000205 * Math.cos(0.67775581231 + 1059.60849402051 * t);
-        Y0 += 0.00000000233 * Math.cos(4.30007127815 + 5821.1587421303 * t);
-        Y0 += 0.00000000187 * Math.cos(4.96787196527 + 5401.18646328809 * t);
-        Y0 += 0.00000000188 * Math.cos(5.93437329943 + 3318.08774757391 * t);
-        Y0 += 0.00000000188 * Math.cos(0.18939361921 + 3363.62474079271 * t);
-        Y0 += 0.00000000231 * Math.cos(2.52090864586 + 9094.2411290801 * t);
-        Y0 += 0.00000000194 * Math.cos(0.44841184856 + 2736.0065034785 * t);
-        Y0 += 0.00000000182 * Math.cos(1.33124042287 + 5960.3294396769 * t);
-        Y0 += 0.00000000193 * Math.cos(2.43212632306 + 7417.3451844149 * t);
-        Y0 += 0.00000000186 * Math.cos(5.05072922235 + 11354.1359851237 * t);
-        Y0 += 0.00000000181 * Math.cos(5.02122429267 + 1754.8188322815 * t);
-        Y0 += 0.00000000222 * Math.cos(6.00725418804 + 3070.6587738097 * t);
-        Y0 += 0.00000000181 * Math.cos(2.28299776534 + 4356.03162710049 * t);
-        Y0 += 0.00000000177 * Math.cos(2.86221640984 + 3651.6970430517 * t);
-        Y0 += 0.00000000189 * Math.cos(3.37917605540 + 6673.8674889153 * t);
-        Y0 += 0.00000000179 * Math.cos(3.47998233365 + 15121.3466026995 * t);
-        Y0 += 0.00000000232 * Math.cos(2.65931483985 + 3517.54997431711 * t);
-        Y0 += 0.00000000232 * Math.cos(3.46445207879 + 3164.1625140495 * t);
-        Y0 += 0.00000000217 * Math.cos(1.06468264448 + 220.16882495529 * t);
-        Y0 += 0.00000000176 * Math.cos(3.13334105652 + 1903.6806299847 * t);
-        Y0 += 0.00000000180 * Math.cos(0.82368576619 + 3348.95011225231 * t);
-        Y0 += 0.00000000180 * Math.cos(5.30008115245 + 3332.7623761143 * t);
-        Y0 += 0.00000000179 * Math.cos(2.20230995382 + 3587.10796650631 * t);
-        Y0 += 0.00000000205 * Math.cos(2.70852744380 + 1059.6430013249 * t);
-        Y0 += 0.00000000187 * Math.cos(1.04746838799 + 2619.71701297711 * t);
-        Y0 += 0.00000000176 * Math.cos(3.90353461991 + 13465.7862985013 * t);
-        Y0 += 0.00000000242 * Math.cos(2.50347875338 + 5408.3000102889 * t);
-        Y0 += 0.00000000178 * Math.cos(4.08581305127 + 2973.14428025389 * t);
-        Y0 += 0.00000000226 * Math.cos(2.22430722385 + 11925.03027511709 * t);
-        Y0 += 0.00000000174 * Math.cos(4.55814413103 + 10096.8626961502 * t);
-        Y0 += 0.00000000188 * Math.cos(3.92968463646 + 2575.0631797369 * t);
-        Y0 += 0.00000000175 * Math.cos(5.69586890519 + 12299.7884757445 * t);
-        Y0 += 0.00000000232 * Math.cos(3.14822069955 + 5351.9565806231 * t);
-        Y0 += 0.00000000174 * Math.cos(1.35135226191 + 5243.80542171749 * t);
-        Y0 += 0.00000000177 * Math.cos(5.85994870849 + 6872.42930202769 * t);
-        Y0 += 0.00000000177 * Math.cos(5.31676928648 + 2573.0074248347 * t);
-        Y0 += 0.00000000210 * Math.cos(0.98942403448 + 6684.2201814941 * t);
-        Y0 += 0.00000000175 * Math.cos(4.13281638704 + 6708.8702269799 * t);
-        Y0 += 0.00000000174 * Math.cos(4.83669668224 + 3156.0063362131 * t);
-        Y0 += 0.00000000182 * Math.cos(2.75035780857 + 2011.3441539233 * t);
-        Y0 += 0.00000000169 * Math.cos(3.54733614920 + 6684.97453557991 * t);
-        Y0 += 0.00000000173 * Math.cos(4.04338856638 + 4885.72259219509 * t);
-        Y0 += 0.00000000239 * Math.cos(5.36279832648 + 31022.50935337269 * t);
-        Y0 += 0.00000000169 * Math.cos(5.57810778070 + 6685.0090428843 * t);
-        Y0 += 0.00000000191 * Math.cos(3.61411273955 + 11567.4350805617 * t);
-        Y0 += 0.00000000207 * Math.cos(2.89825036062 + 10001.72577818411 * t);
-        Y0 += 0.00000000181 * Math.cos(1.80435450081 + 8584.41784841729 * t);
-        Y0 += 0.00000000189 * Math.cos(5.77298688672 + 2783.76372299191 * t);
-        Y0 += 0.00000000233 * Math.cos(1.82665762083 + 23958.8756027169 * t);
-        Y0 += 0.00000000219 * Math.cos(4.30571742396 + 3070.7260841125 * t);
-        Y0 += 0.00000000177 * Math.cos(3.00247820411 + 2978.7351074525 * t);
-        Y0 += 0.00000000179 * Math.cos(2.14367659492 + 17232.9969160771 * t);
-        Y0 += 0.00000000168 * Math.cos(1.23920780852 + 1111.3984276185 * t);
-        Y0 += 0.00000000172 * Math.cos(5.04827147433 + 4061.99547538951 * t);
-        Y0 += 0.00000000184 * Math.cos(6.11375809233 + 12943.2088804075 * t);
-        Y0 += 0.00000000179 * Math.cos(0.02775233109 + 8852.4928461743 * t);
-        Y0 += 0.00000000162 * Math.cos(0.40163918127 + 16696.1924039817 * t);
-        Y0 += 0.00000000163 * Math.cos(0.63420278502 + 19676.20641375289 * t);
-        Y0 += 0.00000000204 * Math.cos(2.58726231867 + 4253.4264878489 * t);
-        Y0 += 0.00000000200 * Math.cos(0.11645066909 + 3611.0537145569 * t);
-        Y0 += 0.00000000188 * Math.cos(0.87802326806 + 2385.61471958371 * t);
-        Y0 += 0.00000000166 * Math.cos(0.44820712961 + 24491.18197509989 * t);
-        Y0 += 0.00000000168 * Math.cos(0.43137458003 + 6166.0047997901 * t);
-        Y0 += 0.00000000201 * Math.cos(3.99153837364 + 3738.98799393931 * t);
-        Y0 += 0.00000000184 * Math.cos(4.49082489107 + 1155.6049748905 * t);
-        Y0 += 0.00000000163 * Math.cos(5.97441856550 + 3335.6570530175 * t);
-        Y0 += 0.00000000163 * Math.cos(0.14934835314 + 3346.0554353491 * t);
-        Y0 += 0.00000000158 * Math.cos(4.96341437900 + 5490.05714404049 * t);
-        Y0 += 0.00000000162 * Math.cos(5.12671205173 + 272.42913986809 * t);
-        Y0 += 0.00000000173 * Math.cos(1.70692023003 + 4.1759707466 * t);
-        Y0 += 0.00000000166 * Math.cos(4.69082020547 + 21393.7857873411 * t);
-        Y0 += 0.00000000175 * Math.cos(5.91635100503 + 2757.8573328049 * t);
-        Y0 += 0.00000000154 * Math.cos(5.97630069834 + 4289.0515320849 * t);
-        Y0 += 0.00000000214 * Math.cos(2.37710402682 + 1386.13909381971 * t);
-        Y0 += 0.00000000171 * Math.cos(0.07657131354 + 10011.4444322331 * t);
-        Y0 += 0.00000000156 * Math.cos(4.08867905453 + 10081.4549594965 * t);
-        Y0 += 0.00000000163 * Math.cos(0.47112906830 + 13286.4274530071 * t);
-        Y0 += 0.00000000155 * Math.cos(3.98476507217 + 8771.2509012821 * t);
-        Y0 += 0.00000000151 * Math.cos(4.45789668424 + 15011.1402814801 * t);
-        Y0 += 0.00000000155 * Math.cos(1.22574828411 + 1879.31455726989 * t);
-        Y0 += 0.00000000155 * Math.cos(4.17166988351 + 2089.53841291549 * t);
-        Y0 += 0.00000000194 * Math.cos(1.66101338255 + 3361.1440047087 * t);
-        Y0 += 0.00000000169 * Math.cos(4.62246895595 + 7064.34794945411 * t);
-        Y0 += 0.00000000166 * Math.cos(5.48604111479 + 6719.6017065209 * t);
-        Y0 += 0.00000000158 * Math.cos(3.13995226724 + 8439.6341143329 * t);
-        Y0 += 0.00000000151 * Math.cos(4.33106068620 + 10228.2666460201 * t);
-        Y0 += 0.00000000151 * Math.cos(1.25869310331 + 3525.7061521535 * t);
-        Y0 += 0.00000000149 * Math.cos(0.32471999674 + 3664.3616608407 * t);
-        Y0 += 0.00000000196 * Math.cos(1.82159362898 + 3610.98640425411 * t);
-        Y0 += 0.00000000166 * Math.cos(0.46110782427 + 5466.7336515625 * t);
-        Y0 += 0.00000000167 * Math.cos(1.32101864186 + 10288.6881393047 * t);
-        Y0 += 0.00000000156 * Math.cos(2.36180228155 + 17394.97591724229 * t);
-        Y0 += 0.00000000147 * Math.cos(5.85283339117 + 14577.4285436033 * t);
-        Y0 += 0.00000000147 * Math.cos(0.61306634906 + 1898.57778177091 * t);
-        Y0 += 0.00000000154 * Math.cos(0.19988862301 + 11457.2287593423 * t);
-        Y0 += 0.00000000172 * Math.cos(3.82461644501 + 19617.3201868063 * t);
-        Y0 += 0.00000000166 * Math.cos(1.16464294435 + 6908.9448036721 * t);
-        Y0 += 0.00000000160 * Math.cos(2.02061385417 + 1346.10047382629 * t);
-        Y0 += 0.00000000180 * Math.cos(3.88594579937 + 5220.4146189367 * t);
-        Y0 += 0.00000000159 * Math.cos(2.34893738617 + 1505.04399160949 * t);
-        Y0 += 0.00000000171 * Math.cos(0.89384833788 + 4399.7505394055 * t);
-        Y0 += 0.00000000178 * Math.cos(3.88835944920 + 2807.1545257727 * t);
-        Y0 += 0.00000000201 * Math.cos(6.02231000514 + 3739.0225012437 * t);
-        Y0 += 0.00000000148 * Math.cos(5.69880757278 + 9154.1474335053 * t);
-        Y0 += 0.00000000146 * Math.cos(5.33364778234 + 13369.8070712835 * t);
-        Y0 += 0.00000000170 * Math.cos(4.17129374991 + 6677.9282988819 * t);
-        Y0 += 0.00000000147 * Math.cos(0.30529245684 + 9918.9883233643 * t);
-        Y0 += 0.00000000147 * Math.cos(3.63211816839 + 14481.4493163855 * t);
-        Y0 += 0.00000000147 * Math.cos(3.04560054365 + 6850.56121904909 * t);
-        Y0 += 0.00000000159 * Math.cos(4.74259177074 + 3334.99904188371 * t);
-        Y0 += 0.00000000159 * Math.cos(1.38117514790 + 3346.71344648291 * t);
-        Y0 += 0.00000000150 * Math.cos(3.63738939165 + 15110.22230238269 * t);
-        Y0 += 0.00000000143 * Math.cos(5.81404981785 + 13227.6284442473 * t);
-        Y0 += 0.00000000189 * Math.cos(4.57066567683 + 10042.4364169817 * t);
-        Y0 += 0.00000000153 * Math.cos(3.12126478969 + 3702.9773809141 * t);
-        Y0 += 0.00000000168 * Math.cos(1.11741682536 + 10032.71776293271 * t);
-        Y0 += 0.00000000155 * Math.cos(1.90750071730 + 369.9436334239 * t);
-        Y0 += 0.00000000151 * Math.cos(0.91782780746 + 1859.44687283811 * t);
-        Y0 += 0.00000000163 * Math.cos(6.13295957527 + 2965.09051261311 * t);
-        Y0 += 0.00000000179 * Math.cos(1.03162162149 + 3966.52643649571 * t);
-        Y0 += 0.00000000179 * Math.cos(5.09214529715 + 2715.1860518709 * t);
-        Y0 += 0.00000000195 * Math.cos(2.27751350976 + 16858.7263504167 * t);
-        Y0 += 0.00000000140 * Math.cos(3.29302979467 + 18461.9590293993 * t);
-        Y0 += 0.00000000183 * Math.cos(5.08915245987 + 6791.6749921025 * t);
-        Y0 += 0.00000000150 * Math.cos(3.40313028042 + 1879.8021922369 * t);
-        Y0 += 0.00000000150 * Math.cos(3.63201414077 + 2922.35192137631 * t);
-        Y0 += 0.00000000182 * Math.cos(3.98532489687 + 8005.92237645609 * t);
-        Y0 += 0.00000000146 * Math.cos(0.34189409252 + 2715.2311079861 * t);
-        Y0 += 0.00000000165 * Math.cos(5.85176455035 + 7346.22471601311 * t);
-        Y0 += 0.00000000141 * Math.cos(5.49463411882 + 3017.35082752591 * t);
-        Y0 += 0.00000000191 * Math.cos(0.62441184949 + 3202.2680457989 * t);
-        Y0 += 0.00000000191 * Math.cos(5.49935506915 + 3479.4444425677 * t);
-        Y0 += 0.00000000139 * Math.cos(4.91449152787 + 4846.1440532763 * t);
-        Y0 += 0.00000000138 * Math.cos(1.09735180536 + 1537.9966184945 * t);
-        Y0 += 0.00000000193 * Math.cos(1.19262914799 + 3650.1345668391 * t);
-        Y0 += 0.00000000160 * Math.cos(2.22528741800 + 3394.16419046711 * t);
-        Y0 += 0.00000000160 * Math.cos(3.89847950064 + 3287.54829789951 * t);
-        Y0 += 0.00000000193 * Math.cos(4.93382263995 + 3031.5779215275 * t);
-        Y0 += 0.00000000169 * Math.cos(4.56651889742 + 4687.2005354931 * t);
-        Y0 += 0.00000000155 * Math.cos(0.34848561430 + 3897.9487653747 * t);
-        Y0 += 0.00000000162 * Math.cos(6.22598832232 + 5607.8596466923 * t);
-        Y0 += 0.00000000136 * Math.cos(0.53418624988 + 3336.7781805645 * t);
-        Y0 += 0.00000000144 * Math.cos(5.67390729246 + 3945.70598488811 * t);
-        Y0 += 0.00000000155 * Math.cos(3.49137971151 + 7799.73682801889 * t);
-        Y0 += 0.00000000170 * Math.cos(6.20206538140 + 6677.9628061863 * t);
-        Y0 += 0.00000000155 * Math.cos(4.11217295378 + 25136.0703357981 * t);
-        Y0 += 0.00000000141 * Math.cos(2.26678508447 + 6279.7965491259 * t);
-        Y0 += 0.00000000174 * Math.cos(5.58730400350 + 7586.43773258089 * t);
-        Y0 += 0.00000000138 * Math.cos(3.20211134662 + 6343.2259719001 * t);
-        Y0 += 0.00000000176 * Math.cos(5.24754822584 + 605.0935581883 * t);
-        Y0 += 0.00000000167 * Math.cos(3.71180827260 + 8337.0289750813 * t);
-        Y0 += 0.00000000185 * Math.cos(0.86703648786 + 27831.79440179969 * t);
-        Y0 += 0.00000000151 * Math.cos(4.79464206123 + 2281.05398932989 * t);
-        Y0 += 0.00000000151 * Math.cos(4.63522367272 + 8962.7664776965 * t);
-        Y0 += 0.00000000136 * Math.cos(0.80562105416 + 12729.9097849695 * t);
-        Y0 += 0.00000000159 * Math.cos(3.23552569495 + 8958.7670141306 * t);
-        Y0 += 0.00000000151 * Math.cos(5.04372005956 + 8962.63185709091 * t);
-        Y0 += 0.00000000151 * Math.cos(5.20313844808 + 2280.9193687243 * t);
-        Y0 += 0.00000000137 * Math.cos(1.47758341153 + 6703.3195002095 * t);
-        Y0 += 0.00000000159 * Math.cos(0.16489389211 + 8966.6313206568 * t);
-        Y0 += 0.00000000132 * Math.cos(4.69789010430 + 12171.7696324071 * t);
-        Y0 += 0.00000000136 * Math.cos(4.02250108722 + 8696.0921256719 * t);
-        Y0 += 0.00000000143 * Math.cos(2.19306681905 + 4106.6493086297 * t);
-        Y0 += 0.00000000140 * Math.cos(1.26260069331 + 27.15773861329 * t);
-        Y0 += 0.00000000179 * Math.cos(5.37712995429 + 5724.6918799455 * t);
-        Y0 += 0.00000000133 * Math.cos(0.03147377213 + 21150.56954840009 * t);
-        Y0 += 0.00000000131 * Math.cos(1.45458200748 + 948.9317914863 * t);
-        Y0 += 0.00000000132 * Math.cos(5.47773606981 + 1861.98967011891 * t);
-        Y0 += 0.00000000133 * Math.cos(5.86296749734 + 2472.43494513869 * t);
-        Y0 += 0.00000000138 * Math.cos(1.97592968874 + 34554.57004618409 * t);
-        Y0 += 0.00000000139 * Math.cos(3.62111712693 + 3.8342461353 * t);
-        Y0 += 0.00000000130 * Math.cos(2.78438204570 + 529.91752892591 * t);
-        Y0 += 0.00000000157 * Math.cos(0.66637254756 + 10787.3865270623 * t);
-        Y0 += 0.00000000133 * Math.cos(4.50452650479 + 6624.5702959475 * t);
-        Y0 += 0.00000000148 * Math.cos(2.40612364993 + 7051.1684868235 * t);
-        Y0 += 0.00000000130 * Math.cos(3.08824912384 + 7594.0389145487 * t);
-        Y0 += 0.00000000132 * Math.cos(0.17263785430 + 9594.99527173989 * t);
-        Y0 += 0.00000000138 * Math.cos(5.62209899863 + 12406.4043683121 * t);
-        Y0 += 0.00000000130 * Math.cos(4.81515367719 + 529.95203623031 * t);
-        Y0 += 0.00000000143 * Math.cos(3.29046013826 + 10015.0348608849 * t);
-        Y0 += 0.00000000149 * Math.cos(0.26971082215 + 10.88048283331 * t);
-        Y0 += 0.00000000178 * Math.cos(4.65997179417 + 2675.61256408629 * t);
-        Y0 += 0.00000000133 * Math.cos(4.74586376419 + 29424.39041543249 * t);
-        Y0 += 0.00000000158 * Math.cos(3.17185301711 + 6092.4038438749 * t);
-        Y0 += 0.00000000131 * Math.cos(5.18408640439 + 158.6997002997 * t);
-        Y0 += 0.00000000134 * Math.cos(4.61138320293 + 2954.4365936111 * t);
-        Y0 += 0.00000000142 * Math.cos(1.22013927552 + 3041.2422149471 * t);
-        Y0 += 0.00000000164 * Math.cos(1.02457529047 + 26083.7779887327 * t);
-        Y0 += 0.00000000145 * Math.cos(3.33534254136 + 8373.6343403855 * t);
-        Y0 += 0.00000000172 * Math.cos(1.36305306778 + 1086.53966880249 * t);
-        Y0 += 0.00000000128 * Math.cos(1.88046940017 + 155.10927164789 * t);
-        Y0 += 0.00000000137 * Math.cos(4.29526096322 + 6137.5506117869 * t);
-        Y0 += 0.00000000167 * Math.cos(3.86261571309 + 107.9073414221 * t);
-        Y0 += 0.00000000133 * Math.cos(1.80894644197 + 12167.75887909109 * t);
-        Y0 += 0.00000000137 * Math.cos(3.89101568839 + 14581.0189722551 * t);
-        Y0 += 0.00000000137 * Math.cos(1.10646412832 + 20995.1491489659 * t);
-        Y0 += 0.00000000126 * Math.cos(6.13522128177 + 37.88921815429 * t);
-        Y0 += 0.00000000130 * Math.cos(0.80699742659 + 4108.7050635319 * t);
-        Y0 += 0.00000000137 * Math.cos(5.57568822106 + 18052.68572567429 * t);
-        Y0 += 0.00000000131 * Math.cos(2.10282374334 + 692.4014187103 * t);
-        Y0 += 0.00000000132 * Math.cos(5.61172315472 + 27490.44866056129 * t);
-        Y0 += 0.00000000144 * Math.cos(5.56368880495 + 1802.6158082053 * t);
-        Y0 += 0.00000000146 * Math.cos(5.31840685158 + 3475.43368925169 * t);
-        Y0 += 0.00000000126 * Math.cos(0.28303045782 + 18447.7319353977 * t);
-        Y0 += 0.00000000141 * Math.cos(6.27643241405 + 3716.6219757535 * t);
-        Y0 += 0.00000000124 * Math.cos(1.38024620663 + 31172.40682849949 * t);
-        Y0 += 0.00000000124 * Math.cos(1.96413242139 + 6688.15233475721 * t);
-        Y0 += 0.00000000121 * Math.cos(1.40075751759 + 3590.7607049255 * t);
-        Y0 += 0.00000000121 * Math.cos(4.72300940105 + 3090.95178344111 * t);
-        Y0 += 0.00000000122 * Math.cos(5.79446111948 + 2257.59587624631 * t);
-        Y0 += 0.00000000123 * Math.cos(2.86133242277 + 6710.8981794191 * t);
-        Y0 += 0.00000000129 * Math.cos(3.19990002398 + 3073.76156749449 * t);
-        Y0 += 0.00000000131 * Math.cos(5.96540599255 + 5401.6740982551 * t);
-        Y0 += 0.00000000166 * Math.cos(3.56556372747 + 6553.44982754571 * t);
-        Y0 += 0.00000000134 * Math.cos(1.17245951228 + 4783.1174529435 * t);
-        Y0 += 0.00000000122 * Math.cos(4.84545055419 + 1235.8318428395 * t);
-        Y0 += 0.00000000128 * Math.cos(0.74562744196 + 3081.2954391595 * t);
-        Y0 += 0.00000000128 * Math.cos(5.37813947668 + 3600.41704920711 * t);
-        Y0 += 0.00000000121 * Math.cos(0.16505703713 + 2126.05391455991 * t);
-        Y0 += 0.00000000124 * Math.cos(3.09719471943 + 5820.6711071633 * t);
-        Y0 += 0.00000000122 * Math.cos(1.01207063042 + 3343.9590378681 * t);
-        Y0 += 0.00000000140 * Math.cos(2.18255999829 + 10191.17364574889 * t);
-        Y0 += 0.00000000127 * Math.cos(2.49175261711 + 3759.3605669903 * t);
-        Y0 += 0.00000000143 * Math.cos(5.81200960148 + 2229.2139990813 * t);
-        Y0 += 0.00000000120 * Math.cos(3.37800348541 + 1648.69057468091 * t);
-        Y0 += 0.00000000152 * Math.cos(5.74350080821 + 3340.8217368789 * t);
-        Y0 += 0.00000000152 * Math.cos(3.52185876402 + 3340.8907514877 * t);
-        Y0 += 0.00000000137 * Math.cos(5.24958747332 + 4296.0977687829 * t);
-        Y0 += 0.00000000140 * Math.cos(6.07934598932 + 2233.71743849851 * t);
-        Y0 += 0.00000000118 * Math.cos(2.67440875498 + 7534.6650526351 * t);
-        Y0 += 0.00000000137 * Math.cos(3.22103647277 + 14588.0652089531 * t);
-        Y0 += 0.00000000123 * Math.cos(1.05338746460 + 9381.2034902007 * t);
-        Y0 += 0.00000000116 * Math.cos(5.02262371793 + 10338.4729672395 * t);
-        Y0 += 0.00000000137 * Math.cos(0.87583504561 + 8322.8018810797 * t);
-        Y0 += 0.00000000126 * Math.cos(4.15152723756 + 4083.84630471591 * t);
-        Y0 += 0.00000000133 * Math.cos(0.20050131976 + 3923.8551555617 * t);
-        Y0 += 0.00000000124 * Math.cos(2.32394389472 + 9124.67816855889 * t);
-        Y0 += 0.00000000115 * Math.cos(2.71796809879 + 6740.3548978297 * t);
-        Y0 += 0.00000000126 * Math.cos(4.47944403901 + 3509.9487923493 * t);
-        Y0 += 0.00000000121 * Math.cos(4.78087706215 + 3862.94602731009 * t);
-        Y0 += 0.00000000118 * Math.cos(0.67101126938 + 1052.02456570489 * t);
-        Y0 += 0.00000000134 * Math.cos(5.30662276999 + 6659.6178415567 * t);
-        Y0 += 0.00000000133 * Math.cos(0.28852620914 + 28.2053699843 * t);
-        Y0 += 0.00000000113 * Math.cos(5.12126627476 + 8436.5313206481 * t);
-        Y0 += 0.00000000133 * Math.cos(0.75275688425 + 6147.8455525254 * t);
-        Y0 += 0.00000000113 * Math.cos(3.24121652591 + 3116.5114484814 * t);
-        Y0 += 0.00000000154 * Math.cos(1.23584313686 + 401.4283042737 * t);
-        Y0 += 0.00000000119 * Math.cos(0.88326438143 + 1471.9968445471 * t);
-        Y0 += 0.00000000116 * Math.cos(1.51219722423 + 3727.2758947555 * t);
-        Y0 += 0.00000000120 * Math.cos(3.47272455509 + 3826.3406620059 * t);
-        Y0 += 0.00000000111 * Math.cos(3.49092955754 + 6837.8693913855 * t);
-        Y0 += 0.00000000147 * Math.cos(4.35013931667 + 8447.2352963007 * t);
-        Y0 += 0.00000000120 * Math.cos(4.26889661746 + 2185.00745180929 * t);
-        Y0 += 0.00000000114 * Math.cos(5.78187265627 + 3966.4813803805 * t);
-        Y0 += 0.00000000126 * Math.cos(1.01640087918 + 7586.92536754791 * t);
-        Y0 += 0.00000000129 * Math.cos(3.02800117630 + 3580.06172980831 * t);
-        Y0 += 0.00000000129 * Math.cos(3.09576574234 + 3101.6507585583 * t);
-        Y0 += 0.00000000123 * Math.cos(3.17573128745 + 5511.3927845075 * t);
-        Y0 += 0.00000000133 * Math.cos(2.29548900012 + 6738.36704581871 * t);
-        Y0 += 0.00000000124 * Math.cos(5.40608799173 + 7210.6720010107 * t);
-        Y0 += 0.00000000107 * Math.cos(3.75293495504 + 6681.04834621889 * t);
-        Y0 += 0.00000000139 * Math.cos(4.05414767826 + 14867.49369840869 * t);
-        Y0 += 0.00000000112 * Math.cos(2.28073796145 + 27433.64539839149 * t);
-        Y0 += 0.00000000112 * Math.cos(5.01410887723 + 10176.94655174729 * t);
-        Y0 += 0.00000000126 * Math.cos(2.05837136952 + 6314.2443419207 * t);
-        Y0 += 0.00000000146 * Math.cos(1.72637612424 + 3282.9775481795 * t);
-        Y0 += 0.00000000146 * Math.cos(4.39739079440 + 3398.73494018711 * t);
-        Y0 += 0.00000000112 * Math.cos(4.54751217161 + 4953.8075772149 * t);
-        Y0 += 0.00000000115 * Math.cos(2.98486230767 + 4179.8255319337 * t);
-        Y0 += 0.00000000115 * Math.cos(3.13902228769 + 2501.88695643291 * t);
-        Y0 += 0.00000000130 * Math.cos(3.94422427867 + 6155.7098590516 * t);
-        Y0 += 0.00000000134 * Math.cos(5.72416579818 + 4825.78873387751 * t);
-        Y0 += 0.00000000138 * Math.cos(5.27722150274 + 5813.5350068055 * t);
-        Y0 += 0.00000000115 * Math.cos(2.98002244807 + 8976.92626139531 * t);
-        Y0 += 0.00000000147 * Math.cos(5.26253855720 + 5223.4501023187 * t);
-        Y0 += 0.00000000105 * Math.cos(3.84211418761 + 17822.0617430853 * t);
-        Y0 += 0.00000000118 * Math.cos(5.89203827165 + 5483.01090734249 * t);
-        Y0 += 0.00000000103 * Math.cos(5.03671194765 + 1059.55843736991 * t);
-        Y0 += 0.00000000104 * Math.cos(4.83299836609 + 549.80246700989 * t);
-        Y0 += 0.00000000107 * Math.cos(2.17758765251 + 7076.0945559423 * t);
-        Y0 += 0.00000000105 * Math.cos(3.92288350713 + 6961.2551752355 * t);
-        Y0 += 0.00000000129 * Math.cos(3.92939028141 + 2961.48283030911 * t);
-        Y0 += 0.00000000129 * Math.cos(2.19437663723 + 3720.2296580575 * t);
-        Y0 += 0.00000000102 * Math.cos(0.26786777670 + 3230.16228799689 * t);
-        Y0 += 0.00000000122 * Math.cos(1.12211172947 + 27676.8616373325 * t);
-        Y0 += 0.00000000136 * Math.cos(5.86697607222 + 765.54924696289 * t);
-        Y0 += 0.00000000116 * Math.cos(1.89113439545 + 10213.0417287275 * t);
-        Y0 += 0.00000000115 * Math.cos(4.67049842349 + 2631.86644190671 * t);
-        Y0 += 0.00000000102 * Math.cos(5.07453595268 + 639.6534688305 * t);
-        Y0 += 0.00000000104 * Math.cos(4.68887219232 + 31450.0708602353 * t);
-        Y0 += 0.00000000141 * Math.cos(0.65765353971 + 6456.63624021419 * t);
-        Y0 += 0.00000000138 * Math.cos(6.27290155228 + 12295.71041212569 * t);
-        Y0 += 0.00000000127 * Math.cos(4.38757311711 + 2655.74487965451 * t);
-        Y0 += 0.00000000101 * Math.cos(3.19202487469 + 21791.9347907493 * t);
-        Y0 += 0.00000000103 * Math.cos(1.18713398647 + 3134.1830607791 * t);
-        Y0 += 0.00000000100 * Math.cos(1.62440020436 + 31213.95761948429 * t);
-        Y0 += 0.00000000115 * Math.cos(4.29413166220 + 21000.67207327329 * t);
-        Y0 += 0.00000000138 * Math.cos(2.88368956632 + 3201.1581046605 * t);
-        Y0 += 0.00000000138 * Math.cos(3.24007735232 + 3480.5543837061 * t);
-        Y0 += 0.00000000099 * Math.cos(3.72853240669 + 6953.6539932677 * t);
-        Y0 += 0.00000000129 * Math.cos(1.79825340837 + 4878.60904519429 * t);
-        Y0 += 0.00000000106 * Math.cos(3.75036852906 + 3023.9767395597 * t);
-        Y0 += 0.00000000100 * Math.cos(3.34238462758 + 8741.79888998789 * t);
-        Y0 += 0.00000000100 * Math.cos(0.20079197399 + 8742.28652495491 * t);
-        Y0 += 0.00000000101 * Math.cos(1.72955787995 + 6534.6569843595 * t);
-        Y0 += 0.00000000100 * Math.cos(0.79632336674 + 2652.2217613055 * t);
-        Y0 += 0.00000000108 * Math.cos(4.13052988823 + 250.1482782257 * t);
-        Y0 += 0.00000000113 * Math.cos(3.89774709782 + 13937.0383226175 * t);
-        Y0 += 0.00000000100 * Math.cos(3.82154216379 + 3340.77168022831 * t);
-        Y0 += 0.00000000100 * Math.cos(5.44381740844 + 3340.9408081383 * t);
-        Y0 += 0.00000000098 * Math.cos(1.40156960306 + 6144.1765238207 * t);
-        Y0 += 0.00000000104 * Math.cos(3.63716602244 + 11526.88127170889 * t);
-        Y0 += 0.00000000099 * Math.cos(5.78288558119 + 5312.80841803811 * t);
-        Y0 += 0.00000000113 * Math.cos(2.18817668288 + 10080.9673245295 * t);
-        Y0 += 0.00000000107 * Math.cos(4.16143134189 + 6680.9137256133 * t);
-        Y0 += 0.00000000095 * Math.cos(0.21807223502 + 8425.40702033129 * t);
-        Y0 += 0.00000000095 * Math.cos(2.99902409772 + 3310.9742005731 * t);
-        Y0 += 0.00000000095 * Math.cos(3.12474282092 + 3370.7382877935 * t);
-        Y0 += 0.00000000098 * Math.cos(6.07573481401 + 18616.82448356369 * t);
-        Y0 += 0.00000000095 * Math.cos(5.51010177831 + 4783.1347065957 * t);
-        Y0 += 0.00000000096 * Math.cos(0.99819535387 + 1353.1467105243 * t);
-        Y0 += 0.00000000100 * Math.cos(3.41304577695 + 3340.9063008339 * t);
-        Y0 += 0.00000000100 * Math.cos(5.85231379528 + 3340.80618753271 * t);
-        Y0 += 0.00000000112 * Math.cos(1.01874315131 + 5084.86190393429 * t);
-        Y0 += 0.00000000098 * Math.cos(3.70334941527 + 7277.64704489211 * t);
-        Y0 += 0.00000000097 * Math.cos(1.45365408670 + 12509.00950756369 * t);
-        Y0 += 0.00000000100 * Math.cos(0.65818374358 + 1755.2278671956 * t);
-        Y0 += 0.00000000098 * Math.cos(0.97983442462 + 1784.2880972279 * t);
-        Y0 += 0.00000000129 * Math.cos(2.93691181926 + 4591.6864404841 * t);
-        Y0 += 0.00000000098 * Math.cos(5.93410154372 + 4981.70181941289 * t);
-        Y0 += 0.00000000100 * Math.cos(5.59483630292 + 6474.7679335865 * t);
-        Y0 += 0.00000000125 * Math.cos(1.84348906532 + 30228.2222939139 * t);
-        Y0 += 0.00000000102 * Math.cos(3.13400085165 + 2214.98690507971 * t);
-        Y0 += 0.00000000092 * Math.cos(1.71243931270 + 1383.13116433011 * t);
-        Y0 += 0.00000000101 * Math.cos(5.97238974906 + 3302.2355735785 * t);
-        Y0 += 0.00000000100 * Math.cos(4.21928425466 + 13517.55897844709 * t);
-        Y0 += 0.00000000096 * Math.cos(3.71471309882 + 16975.9789083341 * t);
-        Y0 += 0.00000000096 * Math.cos(3.08041062563 + 34114.8702517911 * t);
-        Y0 += 0.00000000118 * Math.cos(5.39174563560 + 3343.8251895999 * t);
-        Y0 += 0.00000000118 * Math.cos(0.73202128304 + 3337.88729876671 * t);
-        Y0 += 0.00000000105 * Math.cos(3.93919081745 + 42389.1787537905 * t);
-        Y0 += 0.00000000118 * Math.cos(5.04536066143 + 2524.20291796811 * t);
-        Y0 += 0.00000000114 * Math.cos(3.42685633162 + 947.95147041809 * t);
-        Y0 += 0.00000000102 * Math.cos(3.49277811118 + 27946.9917974033 * t);
-        Y0 += 0.00000000103 * Math.cos(2.64259699800 + 20235.36664379391 * t);
-        Y0 += 0.00000000094 * Math.cos(0.20789444079 + 11507.0135872771 * t);
-        Y0 += 0.00000000118 * Math.cos(2.04691913094 + 3284.47305810711 * t);
-        Y0 += 0.00000000118 * Math.cos(4.07684778770 + 3397.2394302595 * t);
-        Y0 += 0.00000000115 * Math.cos(3.05378875629 + 640.6337898987 * t);
-        Y0 += 0.00000000104 * Math.cos(4.79113313233 + 3149.4252317239 * t);
-        Y0 += 0.00000000104 * Math.cos(4.47417659438 + 3532.2872566427 * t);
-        Y0 += 0.00000000091 * Math.cos(1.86422625651 + 24093.03297169169 * t);
-        Y0 += 0.00000000093 * Math.cos(0.68624597132 + 987.9900904115 * t);
-        Y0 += 0.00000000093 * Math.cos(4.76939880894 + 1957.4812623697 * t);
-        Y0 += 0.00000000116 * Math.cos(3.49150933105 + 49225.8240066243 * t);
-        Y0 += 0.00000000099 * Math.cos(3.02556702345 + 6489.53276980449 * t);
-        Y0 += 0.00000000113 * Math.cos(1.69589601449 + 2597.86618365071 * t);
-        Y0 += 0.00000000107 * Math.cos(5.76130975592 + 1744.66980189871 * t);
-        Y0 += 0.00000000094 * Math.cos(3.77994404993 + 3334.72301825071 * t);
-        Y0 += 0.00000000094 * Math.cos(2.34382286871 + 3346.9894701159 * t);
-        Y0 += 0.00000000090 * Math.cos(5.67852689848 + 15747.0167950119 * t);
-        Y0 += 0.00000000091 * Math.cos(1.14523189560 + 50818.4200202571 * t);
-        Y0 += 0.00000000108 * Math.cos(3.58607681238 + 1971.70835637129 * t);
-        Y0 += 0.00000000111 * Math.cos(2.45297309782 + 27417.3008323087 * t);
-        Y0 += 0.00000000104 * Math.cos(3.56796729290 + 441.06910236111 * t);
-        Y0 += 0.00000000089 * Math.cos(5.47858220889 + 3313.38737778371 * t);
-        Y0 += 0.00000000089 * Math.cos(0.64518470975 + 3368.3251105829 * t);
-        Y0 += 0.00000000103 * Math.cos(4.62821556081 + 1059.6930579755 * t);
-        Y0 += 0.00000000112 * Math.cos(2.79231795944 + 1744.73711220151 * t);
-        Y0 += 0.00000000092 * Math.cos(0.19138124327 + 32509.4527904245 * t);
-        Y0 += 0.00000000100 * Math.cos(3.85768361090 + 10611.14592459111 * t);
-        Y0 += 0.00000000112 * Math.cos(4.47970305153 + 10721.3522458105 * t);
-        Y0 += 0.00000000100 * Math.cos(5.72799005083 + 309.0345051723 * t);
-        Y0 += 0.00000000105 * Math.cos(3.08589856125 + 24606.3793707035 * t);
-        Y0 += 0.00000000095 * Math.cos(0.84457868347 + 529.86747227531 * t);
-        Y0 += 0.00000000120 * Math.cos(6.10556233132 + 3202.33874731261 * t);
-        Y0 += 0.00000000120 * Math.cos(0.01820458732 + 3479.373741054 * t);
-        Y0 += 0.00000000086 * Math.cos(0.77245183733 + 2918.82880302731 * t);
-        Y0 += 0.00000000086 * Math.cos(5.35131508131 + 3762.8836853393 * t);
-        Y0 += 0.00000000099 * Math.cos(2.05522586895 + 3458.6690470753 * t);
-        Y0 += 0.00000000099 * Math.cos(4.06854104969 + 3223.0434412913 * t);
-        Y0 += 0.00000000089 * Math.cos(1.74507054165 + 22531.3344226301 * t);
-        Y0 += 0.00000000107 * Math.cos(3.69153019661 + 3311.87461420391 * t);
-        Y0 += 0.00000000107 * Math.cos(2.43223672203 + 3369.83787416271 * t);
-        Y0 += 0.00000000090 * Math.cos(3.38165668766 + 4670.36833444331 * t);
-        Y0 += 0.00000000094 * Math.cos(1.95446777954 + 796.5245706477 * t);
-        Y0 += 0.00000000085 * Math.cos(5.95959971466 + 809.2336519635 * t);
-        Y0 += 0.00000000084 * Math.cos(3.00350230053 + 4778.03185838191 * t);
-        Y0 += 0.00000000118 * Math.cos(1.79240399777 + 8219.22147189409 * t);
-        Y0 += 0.00000000104 * Math.cos(2.76036150084 + 3149.3907244195 * t);
-        Y0 += 0.00000000104 * Math.cos(0.22176291869 + 3532.3217639471 * t);
-        Y0 += 0.00000000084 * Math.cos(4.22627606170 + 1125.62552162009 * t);
-        Y0 += 0.00000000085 * Math.cos(5.95594200813 + 4555.6585738067 * t);
-        Y0 += 0.00000000116 * Math.cos(5.49142363859 + 14694.7484118235 * t);
-        Y0 += 0.00000000086 * Math.cos(6.08864556833 + 12410.9751180321 * t);
-        Y0 += 0.00000000084 * Math.cos(3.77352177481 + 1106.89498820129 * t);
-        Y0 += 0.00000000117 * Math.cos(2.69247322881 + 30774.2578250913 * t);
-        Y0 += 0.00000000090 * Math.cos(0.13296522638 + 32366.8538387241 * t);
-        Y0 += 0.00000000091 * Math.cos(5.29506341401 + 9161.7711688301 * t);
-        Y0 += 0.00000000089 * Math.cos(6.23353856478 + 3348.53003615871 * t);
-        Y0 += 0.00000000089 * Math.cos(6.17341366104 + 3333.1824522079 * t);
-        Y0 += 0.00000000093 * Math.cos(5.47331396961 + 9225.29545579949 * t);
-        Y0 += 0.00000000102 * Math.cos(3.16676623170 + 4466.72558328691 * t);
-        Y0 += 0.00000000102 * Math.cos(3.16676623170 + 4466.2379483199 * t);
-        Y0 += 0.00000000099 * Math.cos(0.51130040313 + 4879.0966801613 * t);
-        Y0 += 0.00000000086 * Math.cos(4.05866338465 + 3613.0415665679 * t);
-        Y0 += 0.00000000083 * Math.cos(4.34759815373 + 7899.30648388849 * t);
-        Y0 += 0.00000000082 * Math.cos(1.30967650485 + 1265.32366114289 * t);
-        Y0 += 0.00000000084 * Math.cos(0.92794835827 + 2942.7745510779 * t);
-        Y0 += 0.00000000083 * Math.cos(3.70816234293 + 3077.28468584349 * t);
-        Y0 += 0.00000000082 * Math.cos(0.64666599764 + 3351.42559923031 * t);
-        Y0 += 0.00000000082 * Math.cos(5.47710092100 + 3330.2868891363 * t);
-        Y0 += 0.00000000112 * Math.cos(1.67471534984 + 14900.9339602607 * t);
-        Y0 += 0.00000000082 * Math.cos(0.58404375695 + 22318.03532719209 * t);
-        Y0 += 0.00000000084 * Math.cos(3.20837869526 + 3597.8742519263 * t);
-        Y0 += 0.00000000084 * Math.cos(2.91538822338 + 3083.8382364403 * t);
-        Y0 += 0.00000000082 * Math.cos(2.92113670927 + 1552.2237124961 * t);
-        Y0 += 0.00000000095 * Math.cos(0.43608229663 + 530.0020928809 * t);
-        Y0 += 0.00000000081 * Math.cos(4.30100281575 + 2980.2578272547 * t);
-        Y0 += 0.00000000085 * Math.cos(4.86849510055 + 1056.1026293237 * t);
-        Y0 += 0.00000000097 * Math.cos(0.04175992157 + 4447.9950498681 * t);
-        Y0 += 0.00000000084 * Math.cos(4.53785743204 + 845.8390172677 * t);
-        Y0 += 0.00000000114 * Math.cos(1.28659258054 + 3063.8212504419 * t);
-        Y0 += 0.00000000114 * Math.cos(4.83717433810 + 3617.89123792471 * t);
-        Y0 += 0.00000000085 * Math.cos(2.86532283276 + 23937.6125722575 * t);
-        Y0 += 0.00000000085 * Math.cos(2.68159304983 + 54790.1805074615 * t);
-        Y0 += 0.00000000086 * Math.cos(3.41567897446 + 23010.1929284189 * t);
-        Y0 += 0.00000000085 * Math.cos(2.68041688991 + 8322.3142461127 * t);
-        Y0 += 0.00000000083 * Math.cos(2.23302149732 + 20103.2922395959 * t);
-        Y0 += 0.00000000112 * Math.cos(3.74830398933 + 5295.5733945469 * t);
-        Y0 += 0.00000000081 * Math.cos(0.67408003259 + 3490.7537193101 * t);
-        Y0 += 0.00000000081 * Math.cos(5.44968688605 + 3190.9587690565 * t);
-        Y0 += 0.00000000099 * Math.cos(2.78587638666 + 4845.6564183093 * t);
-        Y0 += 0.00000000094 * Math.cos(3.98523941104 + 796.5590779521 * t);
-        Y0 += 0.00000000092 * Math.cos(0.38071563992 + 4452.4984892853 * t);
-        Y0 += 0.00000000092 * Math.cos(0.38071563992 + 4452.0108543183 * t);
-        Y0 += 0.00000000091 * Math.cos(4.85895142608 + 2544.54098371471 * t);
-        Y0 += 0.00000000081 * Math.cos(1.64836757283 + 7166.9530887057 * t);
-        Y0 += 0.00000000089 * Math.cos(4.15046971529 + 6311.7688549427 * t);
-        Y0 += 0.00000000084 * Math.cos(5.20424780335 + 4822.2656155285 * t);
-        Y0 += 0.00000000089 * Math.cos(1.45260507956 + 4049.8460464599 * t);
-        Y0 += 0.00000000085 * Math.cos(4.83658145136 + 14716.0840522905 * t);
-        Y0 += 0.00000000081 * Math.cos(2.70661000816 + 34363.12178007249 * t);
-        Y0 += 0.00000000094 * Math.cos(0.87814163025 + 24532.73276608469 * t);
-        Y0 += 0.00000000102 * Math.cos(1.61863937790 + 3524.7258310853 * t);
-        Y0 += 0.00000000102 * Math.cos(4.50512754074 + 3156.9866572813 * t);
-        Y0 += 0.00000000084 * Math.cos(1.33644474511 + 2942.63993047231 * t);
-        Y0 += 0.00000000084 * Math.cos(2.73245346971 + 4801.9102961297 * t);
-        Y0 += 0.00000000084 * Math.cos(2.63232238753 + 78263.95324220609 * t);
-        Y0 += 0.00000000079 * Math.cos(0.32930597136 + 4424.1166121203 * t);
-        Y0 += 0.00000000081 * Math.cos(1.78230535496 + 3333.72544353031 * t);
-        Y0 += 0.00000000081 * Math.cos(4.34146156368 + 3347.98704483631 * t);
-        Y0 += 0.00000000079 * Math.cos(5.32564058250 + 4029.49072706111 * t);
-        Y0 += 0.00000000083 * Math.cos(0.29135686673 + 24336.2492106327 * t);
-        Y0 += 0.00000000102 * Math.cos(2.08124303406 + 3119.9559667775 * t);
-        Y0 += 0.00000000096 * Math.cos(6.16597212110 + 3324.02404313351 * t);
-        Y0 += 0.00000000096 * Math.cos(6.24098010472 + 3357.6884452331 * t);
-        Y0 += 0.00000000080 * Math.cos(4.26306642509 + 12987.86801335249 * t);
-        Y0 += 0.00000000099 * Math.cos(4.02513713414 + 3376.4640347671 * t);
-        Y0 += 0.00000000099 * Math.cos(2.09862978450 + 3305.24845359951 * t);
-        Y0 += 0.00000000090 * Math.cos(4.06976669148 + 18028.2472915225 * t);
-        Y0 += 0.00000000086 * Math.cos(2.51147086235 + 3296.20241094311 * t);
-        Y0 += 0.00000000086 * Math.cos(3.61229605629 + 3385.5100774235 * t);
-        Y0 += 0.00000000085 * Math.cos(5.04929372084 + 3487.65067705471 * t);
-        Y0 += 0.00000000085 * Math.cos(1.07447319780 + 3194.0618113119 * t);
-        Y0 += 0.00000000085 * Math.cos(4.07158225922 + 1758.8968959003 * t);
-        Y0 += 0.00000000088 * Math.cos(0.27523861221 + 2751.2589746635 * t);
-        Y0 += 0.00000000082 * Math.cos(3.74673586971 + 16460.5773470085 * t);
-        Y0 += 0.00000000101 * Math.cos(1.69645528757 + 1162.23088692429 * t);
-        Y0 += 0.00000000079 * Math.cos(3.11818153513 + 8186.2688450091 * t);
-        Y0 += 0.00000000097 * Math.cos(1.73619334013 + 4025.9676087121 * t);
-        Y0 += 0.00000000077 * Math.cos(0.22099888781 + 7446.7741003625 * t);
-        Y0 += 0.00000000077 * Math.cos(0.22099888781 + 7447.2617353295 * t);
-        Y0 += 0.00000000077 * Math.cos(0.70593259841 + 430.7741616226 * t);
-        Y0 += 0.00000000102 * Math.cos(5.59681662693 + 574.5886158183 * t);
-        Y0 += 0.00000000079 * Math.cos(3.73816629713 + 1593.2488660304 * t);
-        Y0 += 0.00000000090 * Math.cos(1.49099440681 + 12891.88878613469 * t);
-        Y0 += 0.00000000079 * Math.cos(6.19859779271 + 101010.75632211348 * t);
-        Y0 += 0.00000000100 * Math.cos(2.65214559872 + 1481.1655538617 * t);
-        Y0 += 0.00000000106 * Math.cos(4.78557880821 + 13.9832765181 * t);
-        Y0 += 0.00000000076 * Math.cos(5.49053372377 + 31979.7618253299 * t);
-        Y0 += 0.00000000102 * Math.cos(5.35655741954 + 52168.2874299159 * t);
-        Y0 += 0.00000000103 * Math.cos(3.41208170979 + 6777.44789810091 * t);
-        Y0 += 0.00000000080 * Math.cos(3.38185008186 + 1954.9609678471 * t);
-        Y0 += 0.00000000075 * Math.cos(0.45216449067 + 14797.8411860421 * t);
-        Y0 += 0.00000000091 * Math.cos(5.73775200546 + 6836.3341250475 * t);
-        Y0 += 0.00000000077 * Math.cos(0.48111203734 + 51770.1384265077 * t);
-        Y0 += 0.00000000078 * Math.cos(4.39552972351 + 8831.1572057073 * t);
-        Y0 += 0.00000000085 * Math.cos(2.57284263819 + 369.4559984569 * t);
-        Y0 += 0.00000000091 * Math.cos(0.60653775040 + 2544.5754910191 * t);
-        Y0 += 0.00000000081 * Math.cos(0.95322040984 + 3277.1203458799 * t);
-        Y0 += 0.00000000081 * Math.cos(5.17054650880 + 3404.59214248671 * t);
-        Y0 += 0.00000000076 * Math.cos(3.85445806150 + 10025.11658096489 * t);
-        Y0 += 0.00000000084 * Math.cos(5.75160998999 + 45331.6421770821 * t);
-        Y0 += 0.00000000077 * Math.cos(0.59680440034 + 1324.6975230565 * t);
-        Y0 += 0.00000000091 * Math.cos(5.97834946002 + 45494.33761226529 * t);
-        Y0 += 0.00000000081 * Math.cos(5.17266571119 + 3325.11613803129 * t);
-        Y0 += 0.00000000080 * Math.cos(1.79665492010 + 569.0656915109 * t);
-        Y0 += 0.00000000075 * Math.cos(5.25222075961 + 9090.7180107311 * t);
-        Y0 += 0.00000000090 * Math.cos(3.17222371452 + 1747.3635606694 * t);
-        Y0 += 0.00000000073 * Math.cos(4.22695819030 + 7476.2314113615 * t);
-        Y0 += 0.00000000091 * Math.cos(4.81327110244 + 8536.10097651771 * t);
-        Y0 += 0.00000000091 * Math.cos(4.81327110244 + 8535.6133415507 * t);
-        Y0 += 0.00000000102 * Math.cos(4.59807270679 + 8692.08137235589 * t);
-        Y0 += 0.00000000073 * Math.cos(5.20991824086 + 16062.4283436003 * t);
-        Y0 += 0.00000000087 * Math.cos(4.26136604650 + 15117.75617404771 * t);
-        Y0 += 0.00000000077 * Math.cos(1.47494250575 + 20618.2631760171 * t);
-        Y0 += 0.00000000086 * Math.cos(3.28001892853 + 5355.4796989721 * t);
-        Y0 += 0.00000000081 * Math.cos(0.96338461381 + 2917.2935366893 * t);
-        Y0 += 0.00000000077 * Math.cos(0.91362006762 + 1008.30565339989 * t);
-        Y0 += 0.00000000081 * Math.cos(1.65889494544 + 2910.2472999913 * t);
-        Y0 += 0.00000000072 * Math.cos(4.24572819275 + 928.08378598631 * t);
-        Y0 += 0.00000000073 * Math.cos(3.00898976422 + 6809.4875142205 * t);
-        Y0 += 0.00000000075 * Math.cos(6.23302655949 + 4106.1616736627 * t);
-        Y0 += 0.00000000074 * Math.cos(4.08117422586 + 30376.10882168309 * t);
-        Y0 += 0.00000000094 * Math.cos(5.88680065989 + 17809.95712170029 * t);
-        Y0 += 0.00000000080 * Math.cos(2.13848140967 + 6151.8450160913 * t);
-        Y0 += 0.00000000075 * Math.cos(0.09092377390 + 81604.56566890588 * t);
-        Y0 += 0.00000000076 * Math.cos(0.01129674960 + 44534.85653529869 * t);
-        Y0 += 0.00000000097 * Math.cos(5.85293706952 + 5749.61794906429 * t);
-        Y0 += 0.00000000071 * Math.cos(3.99491883467 + 9384.59719059169 * t);
-        Y0 += 0.00000000074 * Math.cos(4.00818928999 + 6603.7181268992 * t);
-        Y0 += 0.00000000071 * Math.cos(3.77471202293 + 14061.9646725103 * t);
-        Y0 += 0.00000000073 * Math.cos(3.77824643335 + 13635.3664816343 * t);
-        Y0 += 0.00000000071 * Math.cos(4.21888578691 + 5622.1540509967 * t);
-        Y0 += 0.00000000071 * Math.cos(4.30845955918 + 23539.8838935135 * t);
-        Y0 += 0.00000000081 * Math.cos(1.38235650244 + 19573.6012745013 * t);
-        Y0 += 0.00000000100 * Math.cos(3.67335445653 + 3399.7424711299 * t);
-        Y0 += 0.00000000075 * Math.cos(3.40358526619 + 1214.55851213989 * t);
-        Y0 += 0.00000000094 * Math.cos(3.33044734976 + 10816.84383806129 * t);
-        Y0 += 0.00000000071 * Math.cos(4.38626132317 + 12140.8449579613 * t);
-        Y0 += 0.00000000072 * Math.cos(1.37425478851 + 26887.6098672141 * t);
-        Y0 += 0.00000000072 * Math.cos(0.56330972127 + 2010.8565189563 * t);
-        Y0 += 0.00000000072 * Math.cos(1.19011347351 + 11560.32153356091 * t);
-        Y0 += 0.00000000072 * Math.cos(5.48851072898 + 21957.4369102635 * t);
-        Y0 += 0.00000000071 * Math.cos(4.41874779960 + 1619.7537522461 * t);
-        Y0 += 0.00000000074 * Math.cos(1.68474352553 + 20205.89737884749 * t);
-        Y0 += 0.00000000075 * Math.cos(2.70325711680 + 7477.27904273249 * t);
-        Y0 += 0.00000000073 * Math.cos(0.64702279583 + 6493.54352312051 * t);
-        Y0 += 0.00000000069 * Math.cos(3.54263618042 + 5784.06574185909 * t);
-        Y0 += 0.00000000084 * Math.cos(1.01645431208 + 2118.5200428949 * t);
-        Y0 += 0.00000000086 * Math.cos(3.03743422532 + 19404.0210913683 * t);
-        Y0 += 0.00000000095 * Math.cos(2.31320113804 + 2104.7805838603 * t);
-        Y0 += 0.00000000075 * Math.cos(2.77500192554 + 8748.9124369887 * t);
-        Y0 += 0.00000000076 * Math.cos(4.33355808410 + 3268.8005108285 * t);
-        Y0 += 0.00000000076 * Math.cos(1.79020883454 + 3412.9119775381 * t);
-        Y0 += 0.00000000089 * Math.cos(1.64126071038 + 15643.43638582629 * t);
-        Y0 += 0.00000000075 * Math.cos(1.25947909560 + 36106.1029037991 * t);
-        Y0 += 0.00000000069 * Math.cos(2.65446892553 + 21272.8804910045 * t);
-        Y0 += 0.00000000071 * Math.cos(0.24705889025 + 58857.2749540315 * t);
-        Y0 += 0.00000000071 * Math.cos(4.66819102175 + 5298.0936890695 * t);
-        Y0 += 0.00000000071 * Math.cos(4.66819102175 + 5298.5813240365 * t);
-        Y0 += 0.00000000080 * Math.cos(2.54697779651 + 6151.71039548571 * t);
-        Y0 += 0.00000000068 * Math.cos(3.06859270324 + 942.3058794525 * t);
-        Y0 += 0.00000000089 * Math.cos(3.32880979752 + 30640.1004561165 * t);
-        Y0 += 0.00000000068 * Math.cos(4.30719958123 + 11247.4527822533 * t);
-        Y0 += 0.00000000068 * Math.cos(5.53923428830 + 8550.32807051931 * t);
-        Y0 += 0.00000000078 * Math.cos(3.75474105015 + 422.9098550964 * t);
-        Y0 += 0.00000000068 * Math.cos(4.94904122324 + 4665.3099497563 * t);
-        Y0 += 0.00000000068 * Math.cos(4.94904122324 + 4665.7975847233 * t);
-        Y0 += 0.00000000070 * Math.cos(5.89813960443 + 2332.3067732999 * t);
-        Y0 += 0.00000000070 * Math.cos(0.02785351787 + 13105.18788157269 * t);
-        Y0 += 0.00000000071 * Math.cos(5.54255167971 + 3309.86425943471 * t);
-        Y0 += 0.00000000071 * Math.cos(0.58121523893 + 3371.8482289319 * t);
-        Y0 += 0.00000000080 * Math.cos(3.39865381902 + 9705.6892279263 * t);
-        Y0 += 0.00000000079 * Math.cos(4.40031750333 + 16065.82204399129 * t);
-        Y0 += 0.00000000070 * Math.cos(0.92757117435 + 7843.94337529091 * t);
-        Y0 += 0.00000000068 * Math.cos(3.54162039995 + 9175.9982628317 * t);
-        Y0 += 0.00000000081 * Math.cos(2.34135520581 + 94329.53146871387 * t);
-        Y0 += 0.00000000067 * Math.cos(4.00501817920 + 6112.6467968557 * t);
-        Y0 += 0.00000000075 * Math.cos(0.08972367730 + 1585.38455950421 * t);
-        Y0 += 0.00000000091 * Math.cos(1.20169391057 + 7768.2521571691 * t);
-        Y0 += 0.00000000068 * Math.cos(5.88468412911 + 11663.4143077795 * t);
-        Y0 += 0.00000000069 * Math.cos(1.03197307646 + 23554.1109875151 * t);
-        Y0 += 0.00000000072 * Math.cos(5.59069878383 + 3267.2207809637 * t);
-        Y0 += 0.00000000072 * Math.cos(0.53306813481 + 3414.4917074029 * t);
-        Y0 += 0.00000000073 * Math.cos(2.34799922671 + 2693.84541086851 * t);
-        Y0 += 0.00000000069 * Math.cos(5.96168258099 + 3494.7814777077 * t);
-        Y0 += 0.00000000069 * Math.cos(0.16208433765 + 3186.93101065891 * t);
-        Y0 += 0.00000000068 * Math.cos(2.22578139544 + 5202.1144618517 * t);
-        Y0 += 0.00000000085 * Math.cos(1.07840622469 + 4157.5095703985 * t);
-        Y0 += 0.00000000066 * Math.cos(0.70967474590 + 15636.32283882549 * t);
-        Y0 += 0.00000000093 * Math.cos(5.17707127671 + 1826.07731249979 * t);
-        Y0 += 0.00000000075 * Math.cos(0.69441189563 + 15276.21205686389 * t);
-        Y0 += 0.00000000067 * Math.cos(4.16813989827 + 290.24166198609 * t);
-        Y0 += 0.00000000073 * Math.cos(3.87941986980 + 3237.2758349977 * t);
-        Y0 += 0.00000000066 * Math.cos(4.38025942738 + 10823.95738506209 * t);
-        Y0 += 0.00000000066 * Math.cos(4.38025942738 + 10824.44502002911 * t);
-        Y0 += 0.00000000066 * Math.cos(2.30801018010 + 16056.29511766771 * t);
-        Y0 += 0.00000000066 * Math.cos(1.79189006879 + 226.07308589371 * t);
-        Y0 += 0.00000000068 * Math.cos(5.14003771959 + 4897.4243911387 * t);
-        Y0 += 0.00000000065 * Math.cos(2.25884185483 + 3324.09135343631 * t);
-        Y0 += 0.00000000065 * Math.cos(3.86492506381 + 3357.6211349303 * t);
-        Y0 += 0.00000000066 * Math.cos(3.63859878484 + 176.44991265029 * t);
-        Y0 += 0.00000000069 * Math.cos(2.88792708089 + 1442.03464492889 * t);
-        Y0 += 0.00000000065 * Math.cos(3.80463962799 + 12725.20961729149 * t);
-        Y0 += 0.00000000071 * Math.cos(2.38407372949 + 11250.55557593809 * t);
-        Y0 += 0.00000000066 * Math.cos(5.64622594457 + 415.7963080956 * t);
-        Y0 += 0.00000000066 * Math.cos(2.06957972906 + 3738.93793728871 * t);
-        Y0 += 0.00000000090 * Math.cos(0.09722302162 + 2885.946877656 * t);
-        Y0 += 0.00000000090 * Math.cos(6.02654389702 + 3795.7656107106 * t);
-        Y0 += 0.00000000067 * Math.cos(3.85822640732 + 13359.10309563091 * t);
-        Y0 += 0.00000000069 * Math.cos(6.01059659703 + 4932.9646228491 * t);
-        Y0 += 0.00000000067 * Math.cos(3.14807353187 + 20043.43074271529 * t);
-        Y0 += 0.00000000067 * Math.cos(2.27076085895 + 19247.6203708659 * t);
-        Y0 += 0.00000000064 * Math.cos(5.77820135380 + 8983.0544867925 * t);
-        Y0 += 0.00000000081 * Math.cos(4.01879254835 + 5136.1146879043 * t);
-        Y0 += 0.00000000076 * Math.cos(4.53170041047 + 6677.53651762 * t);
-        Y0 += 0.00000000064 * Math.cos(5.04465453700 + 6564.1488026629 * t);
-        Y0 += 0.00000000063 * Math.cos(3.67470240475 + 10294.2664199675 * t);
-        Y0 += 0.00000000063 * Math.cos(3.67470240475 + 10294.7540549345 * t);
-        Y0 += 0.00000000065 * Math.cos(0.85570190902 + 0.7365035847 * t);
-        Y0 += 0.00000000067 * Math.cos(5.44254364972 + 4396.71505602351 * t);
-        Y0 += 0.00000000070 * Math.cos(2.61333516815 + 5088.46362233621 * t);
-        Y0 += 0.00000000070 * Math.cos(2.61333516815 + 5087.97598736919 * t);
-        Y0 += 0.00000000066 * Math.cos(1.94886102839 + 3332.68810760091 * t);
-        Y0 += 0.00000000066 * Math.cos(4.17490589025 + 3349.02438076571 * t);
-        Y0 += 0.00000000069 * Math.cos(2.29302584578 + 24076.6884056089 * t);
-        Y0 += 0.00000000063 * Math.cos(2.65217434480 + 15004.0267344793 * t);
-        Y0 += 0.00000000066 * Math.cos(3.29840260562 + 3303.8606535723 * t);
-        Y0 += 0.00000000066 * Math.cos(2.82536431302 + 3377.85183479431 * t);
-        Y0 += 0.00000000062 * Math.cos(5.68281304505 + 423.3188900105 * t);
-        Y0 += 0.00000000073 * Math.cos(6.20384290738 + 7250.29054491051 * t);
-        Y0 += 0.00000000066 * Math.cos(4.05777388350 + 1083.01655045349 * t);
-        Y0 += 0.00000000066 * Math.cos(1.66108334221 + 3739.0725578943 * t);
-        Y0 += 0.00000000065 * Math.cos(2.38868691844 + 3454.58568375171 * t);
-        Y0 += 0.00000000065 * Math.cos(3.73508000020 + 3227.1268046149 * t);
-        Y0 += 0.00000000069 * Math.cos(1.02568627494 + 5885.1879177189 * t);
-        Y0 += 0.00000000069 * Math.cos(4.18150566046 + 2384.56708821271 * t);
-        Y0 += 0.00000000082 * Math.cos(2.24915344259 + 6573.8051469445 * t);
-        Y0 += 0.00000000078 * Math.cos(3.71449046077 + 12979.79699205951 * t);
-        Y0 += 0.00000000063 * Math.cos(0.30909856819 + 6298.0845036929 * t);
-        Y0 += 0.00000000063 * Math.cos(5.86138984897 + 379.12959639069 * t);
-        Y0 += 0.00000000078 * Math.cos(4.78158403700 + 17079.0716825527 * t);
-        Y0 += 0.00000000063 * Math.cos(0.84589576108 + 4295.6101338159 * t);
-        Y0 += 0.00000000072 * Math.cos(1.20473950633 + 7366.5127251091 * t);
-        Y0 += 0.00000000064 * Math.cos(5.94145157304 + 21258.6533970029 * t);
-        Y0 += 0.00000000061 * Math.cos(4.25199542760 + 3870.52995562571 * t);
-        Y0 += 0.00000000069 * Math.cos(0.74102855275 + 6757.7347421587 * t);
-        Y0 += 0.00000000061 * Math.cos(6.28276705909 + 3870.5644629301 * t);
-        Y0 += 0.00000000061 * Math.cos(3.89740578515 + 8528.49979454989 * t);
-        Y0 += 0.00000000072 * Math.cos(6.17734111246 + 3337.95522989351 * t);
-        Y0 += 0.00000000072 * Math.cos(6.22961111336 + 3343.7572584731 * t);
-        Y0 += 0.00000000081 * Math.cos(3.28865783131 + 17498.5563264279 * t);
-        Y0 += 0.00000000080 * Math.cos(5.66181879898 + 68241.62832713968 * t);
-        Y0 += 0.00000000070 * Math.cos(5.98008002738 + 5096.3279288624 * t);
-        Y0 += 0.00000000070 * Math.cos(5.98008002738 + 5095.8402938954 * t);
-        Y0 += 0.00000000062 * Math.cos(2.20286177266 + 629.0954035336 * t);
-        Y0 += 0.00000000061 * Math.cos(5.80236333905 + 7056.74676748629 * t);
-        Y0 += 0.00000000061 * Math.cos(3.69141943753 + 27035.49639498329 * t);
-        Y0 += 0.00000000075 * Math.cos(0.87745006748 + 13531.78607244869 * t);
-        Y0 += 0.00000000062 * Math.cos(2.97984792859 + 14591.16800263789 * t);
-        Y0 += 0.00000000062 * Math.cos(2.97984792859 + 14591.6556376049 * t);
-        Y0 += 0.00000000071 * Math.cos(4.62738217375 + 5622.01943039111 * t);
-        Y0 += 0.00000000066 * Math.cos(2.27365299388 + 954.9977071161 * t);
-        Y0 += 0.00000000068 * Math.cos(2.72448999946 + 3930.4535137031 * t);
-        Y0 += 0.00000000066 * Math.cos(3.14619736362 + 2899.54332433869 * t);
-        Y0 += 0.00000000061 * Math.cos(4.49549745154 + 2711.51702316619 * t);
-        Y0 += 0.00000000063 * Math.cos(4.32081273594 + 2125.5662795929 * t);
-        Y0 += 0.00000000073 * Math.cos(4.45773042596 + 6695.6957648847 * t);
-        Y0 += 0.00000000069 * Math.cos(5.27809995063 + 5885.15341041451 * t);
-        Y0 += 0.00000000060 * Math.cos(5.14170398436 + 41427.24316569529 * t);
-        Y0 += 0.00000000080 * Math.cos(3.75731973309 + 4576.44426953929 * t);
-        Y0 += 0.00000000080 * Math.cos(3.75731973309 + 4576.9319045063 * t);
-        Y0 += 0.00000000059 * Math.cos(2.49398932309 + 9374.58262930109 * t);
-        Y0 += 0.00000000074 * Math.cos(4.89168591212 + 3583.0972131903 * t);
-        Y0 += 0.00000000082 * Math.cos(5.81793237346 + 2636.7354245989 * t);
-        Y0 += 0.00000000058 * Math.cos(4.78357545202 + 720.89541372269 * t);
-        Y0 += 0.00000000058 * Math.cos(1.64198279843 + 721.3830486897 * t);
-        Y0 += 0.00000000059 * Math.cos(3.57410159337 + 14319.44721987369 * t);
-        Y0 += 0.00000000065 * Math.cos(1.28381558772 + 48274.1056003737 * t);
-        Y0 += 0.00000000058 * Math.cos(4.51103536629 + 110.9428248041 * t);
-        Y0 += 0.00000000072 * Math.cos(1.68586060618 + 195.21520194411 * t);
-        Y0 += 0.00000000059 * Math.cos(5.74510260782 + 13738.4592558529 * t);
-        Y0 += 0.00000000063 * Math.cos(1.06605769138 + 9722.9547033137 * t);
-        Y0 += 0.00000000080 * Math.cos(4.45970706755 + 3304.2076812538 * t);
-        Y0 += 0.00000000080 * Math.cos(1.66405985109 + 3377.5048071128 * t);
-        Y0 += 0.00000000058 * Math.cos(5.44450610447 + 16070.5222116693 * t);
-        Y0 += 0.00000000070 * Math.cos(2.49253748917 + 11787.8477230005 * t);
-        Y0 += 0.00000000062 * Math.cos(4.94992711761 + 4558.6940571887 * t);
-        Y0 += 0.00000000076 * Math.cos(1.99891799021 + 1612.70751554809 * t);
-        Y0 += 0.00000000071 * Math.cos(1.30058846825 + 6486.4972864225 * t);
-        Y0 += 0.00000000062 * Math.cos(5.09763426823 + 437.8877086234 * t);
-        Y0 += 0.00000000059 * Math.cos(4.90581628492 + 37057.33367508269 * t);
-        Y0 += 0.00000000070 * Math.cos(2.79389929588 + 8116.1286976755 * t);
-        Y0 += 0.00000000058 * Math.cos(6.09640127140 + 1969.4444807273 * t);
-        Y0 += 0.00000000058 * Math.cos(0.02736564724 + 4712.26800763931 * t);
-        Y0 += 0.00000000057 * Math.cos(4.37594257879 + 4565.7402938867 * t);
-        Y0 += 0.00000000065 * Math.cos(1.66245825930 + 5526.1075134761 * t);
-        Y0 += 0.00000000072 * Math.cos(0.18252327904 + 8948.4720733921 * t);
-        Y0 += 0.00000000059 * Math.cos(2.44348231635 + 22854.8398392875 * t);
-        Y0 += 0.00000000074 * Math.cos(2.02616573090 + 3192.28988479 * t);
-        Y0 += 0.00000000074 * Math.cos(1.02342311752 + 3189.3209393734 * t);
-        Y0 += 0.00000000074 * Math.cos(2.75351422654 + 5106.1352346339 * t);
-        Y0 += 0.00000000060 * Math.cos(2.41681225251 + 3333.2775649737 * t);
-        Y0 += 0.00000000060 * Math.cos(3.70695466613 + 3348.4349233929 * t);
-        Y0 += 0.00000000057 * Math.cos(3.99795106682 + 1022.5327474015 * t);
-        Y0 += 0.00000000062 * Math.cos(0.60417431770 + 792.53107098389 * t);
-        Y0 += 0.00000000055 * Math.cos(4.34931243096 + 3355.5935265089 * t);
-        Y0 += 0.00000000055 * Math.cos(1.77445448768 + 3326.11896185771 * t);
-        Y0 += 0.00000000057 * Math.cos(5.12925283675 + 3973.1523485295 * t);
-        Y0 += 0.00000000057 * Math.cos(1.32085031811 + 15842.9960222297 * t);
-        Y0 += 0.00000000071 * Math.cos(6.21599374391 + 418.26050532349 * t);
-        Y0 += 0.00000000061 * Math.cos(3.75995016598 + 223.1041404771 * t);
-        Y0 += 0.00000000063 * Math.cos(4.40371062565 + 4137.1715046519 * t);
-        Y0 += 0.00000000067 * Math.cos(5.00146180970 + 11240.4065455553 * t);
-        Y0 += 0.00000000055 * Math.cos(5.08628762479 + 25665.7613008927 * t);
-        Y0 += 0.00000000076 * Math.cos(4.50412584127 + 33716.72124838289 * t);
-        Y0 += 0.00000000061 * Math.cos(0.88820799738 + 7630.64427985291 * t);
-        Y0 += 0.00000000065 * Math.cos(5.53821276618 + 14267.66258598049 * t);
-        Y0 += 0.00000000065 * Math.cos(5.53821276618 + 14268.1502209475 * t);
-        Y0 += 0.00000000060 * Math.cos(5.95972666137 + 1368.4164353615 * t);
-        Y0 += 0.00000000061 * Math.cos(3.06892273504 + 1118.9996095863 * t);
-        Y0 += 0.00000000067 * Math.cos(4.29317097897 + 13366.2839529345 * t);
-        return Y0;
-    }
-
-
-    static double Y1(double t) // 1023 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.01668487239 * Math.cos(2.59897259786 + 0.2438174835 * t);
-        Y1 += 0.00551520815 * Math.cos(3.52285185770 + 6681.46867088311 * t);
-        Y1 += 0.00077122404 * Math.cos(3.86148242536 + 10022.0810975829 * t);
-        Y1 += 0.00033905789 * Math.cos(0.99877346654 + 3340.36860921629 * t);
-        Y1 += 0.00013417687 * Math.cos(1.14386060325 + 3340.8562441833 * t);
-        Y1 += 0.00009584524 * Math.cos(4.19977564590 + 13362.6935242827 * t);
-        Y1 += 0.00002619567 * Math.cos(1.47212497791 + 3337.33312583431 * t);
-        Y1 += 0.00002615345 * Math.cos(4.65188218049 + 3344.3793625323 * t);
-        Y1 += 0.00001454057 * Math.cos(1.29298490269 + 6680.98103591609 * t);
-        Y1 += 0.00001163163 * Math.cos(4.53798497815 + 16703.3059509825 * t);
-        Y1 += 0.00000900588 * Math.cos(1.74364630959 + 1059.6257476727 * t);
-        Y1 += 0.00000429589 * Math.cos(1.18548595402 + 2942.7072407751 * t);
-        Y1 += 0.00000388556 * Math.cos(4.38001744017 + 5622.08674069391 * t);
-        Y1 += 0.00000380679 * Math.cos(4.93305109350 + 3739.0052475915 * t);
-        Y1 += 0.00000394611 * Math.cos(4.91194179182 + 6684.9917892321 * t);
-        Y1 += 0.00000336947 * Math.cos(3.64146347925 + 3149.4079780717 * t);
-        Y1 += 0.00000333888 * Math.cos(0.88735593348 + 3185.43584474911 * t);
-        Y1 += 0.00000318443 * Math.cos(2.48094295107 + 3532.3045102949 * t);
-        Y1 += 0.00000317603 * Math.cos(5.23738106920 + 3496.2766436175 * t);
-        Y1 += 0.00000312062 * Math.cos(2.66000176108 + 2544.5582373669 * t);
-        Y1 += 0.00000285965 * Math.cos(3.02967127901 + 796.5418242999 * t);
-        Y1 += 0.00000259967 * Math.cos(3.45408083721 + 4137.1542509997 * t);
-        Y1 += 0.00000205452 * Math.cos(1.63092401950 + 1194.6908277081 * t);
-        Y1 += 0.00000140526 * Math.cos(4.87623075662 + 20043.9183776823 * t);
-        Y1 += 0.00000159180 * Math.cos(2.00572713492 + 1589.3167127673 * t);
-        Y1 += 0.00000133487 * Math.cos(3.06919175173 + 5885.1706640667 * t);
-        Y1 += 0.00000132246 * Math.cos(2.12952118645 + 4400.2381743725 * t);
-        Y1 += 0.00000126940 * Math.cos(1.24935817727 + 6677.9455525341 * t);
-        Y1 += 0.00000102941 * Math.cos(4.48642964758 + 5487.0216606585 * t);
-        Y1 += 0.00000128977 * Math.cos(0.22856181225 + 1592.8398311163 * t);
-        Y1 += 0.00000101403 * Math.cos(3.97057397888 + 3339.8759231151 * t);
-        Y1 += 0.00000101343 * Math.cos(2.15319078531 + 3341.83656525151 * t);
-        Y1 += 0.00000089600 * Math.cos(4.30886056351 + 3870.54720927791 * t);
-        Y1 += 0.00000084159 * Math.cos(5.10763376124 + 1990.9888345245 * t);
-        Y1 += 0.00000093032 * Math.cos(1.57904935535 + 10021.5934626159 * t);
-        Y1 += 0.00000079379 * Math.cos(2.34223792198 + 426.8420083595 * t);
-        Y1 += 0.00000077187 * Math.cos(5.35374635180 + 7079.61767429131 * t);
-        Y1 += 0.00000081451 * Math.cos(4.09472299340 + 5092.3957755993 * t);
-        Y1 += 0.00000091218 * Math.cos(4.06344861425 + 2146.4092339587 * t);
-        Y1 += 0.00000063951 * Math.cos(3.70258807947 + 2389.1378379327 * t);
-        Y1 += 0.00000057311 * Math.cos(5.21513953164 + 10025.6042159319 * t);
-        Y1 += 0.00000056935 * Math.cos(0.36046078739 + 3098.1276402093 * t);
-        Y1 += 0.00000075514 * Math.cos(2.03966755509 + 4535.3032544079 * t);
-        Y1 += 0.00000055567 * Math.cos(5.93078753620 + 9492.3901324883 * t);
-        Y1 += 0.00000072076 * Math.cos(5.89419507935 + 5088.8726572503 * t);
-        Y1 += 0.00000052967 * Math.cos(5.76121074267 + 3583.5848481573 * t);
-        Y1 += 0.00000053267 * Math.cos(1.01723184039 + 4690.7236538421 * t);
-        Y1 += 0.00000070583 * Math.cos(2.29587751894 + 2787.2868413409 * t);
-        Y1 += 0.00000057299 * Math.cos(5.04645839215 + 7.3573644843 * t);
-        Y1 += 0.00000054075 * Math.cos(1.17994565418 + 2957.9597119601 * t);
-        Y1 += 0.00000050146 * Math.cos(6.18940453496 + 191.2044486281 * t);
-        Y1 += 0.00000046293 * Math.cos(2.42348353431 + 4292.5746504339 * t);
-        Y1 += 0.00000049234 * Math.cos(0.93659790719 + 6681.45141723091 * t);
-        Y1 += 0.00000058634 * Math.cos(3.83006998491 + 3894.4256470257 * t);
-        Y1 += 0.00000048264 * Math.cos(4.94385443663 + 3723.7527764065 * t);
-        Y1 += 0.00000049234 * Math.cos(2.96736953876 + 6681.4859245353 * t);
-        Y1 += 0.00000055021 * Math.cos(2.68195179354 + 155.17658195069 * t);
-        Y1 += 0.00000047402 * Math.cos(4.07145408153 + 6490.0204047715 * t);
-        Y1 += 0.00000039275 * Math.cos(3.34522669334 + 1747.7725955835 * t);
-        Y1 += 0.00000037297 * Math.cos(4.78099832320 + 3554.1553396213 * t);
-        Y1 += 0.00000036066 * Math.cos(1.31662704298 + 3127.5571487453 * t);
-        Y1 += 0.00000035298 * Math.cos(1.23303085666 + 6526.04827144891 * t);
-        Y1 += 0.00000033577 * Math.cos(1.93752924591 + 2145.92159899169 * t);
-        Y1 += 0.00000032981 * Math.cos(3.50261324943 + 3333.7426971825 * t);
-        Y1 += 0.00000030372 * Math.cos(5.46912135938 + 1748.2602305505 * t);
-        Y1 += 0.00000039114 * Math.cos(3.80687421474 + 7477.7666776995 * t);
-        Y1 += 0.00000029430 * Math.cos(3.77418319168 + 6254.8704800071 * t);
-        Y1 += 0.00000029559 * Math.cos(6.15473365534 + 951.4745887671 * t);
-        Y1 += 0.00000028511 * Math.cos(1.27708409847 + 553.32558535889 * t);
-        Y1 += 0.00000027567 * Math.cos(2.17780252110 + 12303.3115940935 * t);
-        Y1 += 0.00000027467 * Math.cos(0.62128414719 + 4933.4522578161 * t);
-        Y1 += 0.00000028130 * Math.cos(2.67378903203 + 3347.96979118411 * t);
-        Y1 += 0.00000034806 * Math.cos(4.74990712506 + 1349.62359217529 * t);
-        Y1 += 0.00000024557 * Math.cos(1.59353030822 + 2811.1652790887 * t);
-        Y1 += 0.00000024445 * Math.cos(4.65651492351 + 1066.7392946735 * t);
-        Y1 += 0.00000029230 * Math.cos(1.08762035239 + 640.1411037975 * t);
-        Y1 += 0.00000021272 * Math.cos(2.27427092663 + 4929.92913946711 * t);
-        Y1 += 0.00000024027 * Math.cos(2.31810288444 + 382.6527147397 * t);
-        Y1 += 0.00000024805 * Math.cos(2.29421805969 + 2119.00767786191 * t);
-        Y1 += 0.00000019016 * Math.cos(5.33725266506 + 242.97242145751 * t);
-        Y1 += 0.00000018321 * Math.cos(5.32154407296 + 9623.9320941747 * t);
-        Y1 += 0.00000017069 * Math.cos(0.73723843575 + 3320.50092478451 * t);
-        Y1 += 0.00000016952 * Math.cos(5.38620600325 + 3361.2115635821 * t);
-        Y1 += 0.00000016989 * Math.cos(5.21436339395 + 23384.5308043821 * t);
-        Y1 += 0.00000016214 * Math.cos(5.29782106321 + 6681.40136058031 * t);
-        Y1 += 0.00000016696 * Math.cos(3.94416253958 + 2281.4743139941 * t);
-        Y1 += 0.00000016004 * Math.cos(5.16305438762 + 1052.51220067191 * t);
-        Y1 += 0.00000017047 * Math.cos(1.13159672552 + 6674.3551238823 * t);
-        Y1 += 0.00000014590 * Math.cos(0.35043364178 + 10018.5579792339 * t);
-        Y1 += 0.00000016713 * Math.cos(5.38131437608 + 7211.1596359777 * t);
-        Y1 += 0.00000017707 * Math.cos(2.46690015193 + 7740.8506010723 * t);
-        Y1 += 0.00000016047 * Math.cos(2.67804298545 + 3325.6037729983 * t);
-        Y1 += 0.00000015961 * Math.cos(3.44566203623 + 3356.10871536831 * t);
-        Y1 += 0.00000016214 * Math.cos(4.88932467996 + 6681.5359811859 * t);
-        Y1 += 0.00000013780 * Math.cos(6.26179574629 + 12833.00255918811 * t);
-        Y1 += 0.00000014630 * Math.cos(2.07693903473 + 2273.8731320263 * t);
-        Y1 += 0.00000012478 * Math.cos(2.52316698362 + 6682.44899195131 * t);
-        Y1 += 0.00000012677 * Math.cos(5.48459046233 + 5331.6012612243 * t);
-        Y1 += 0.00000013489 * Math.cos(1.61171597857 + 2288.1002260279 * t);
-        Y1 += 0.00000015563 * Math.cos(3.79290468512 + 4562.70481050471 * t);
-        Y1 += 0.00000013052 * Math.cos(2.92086754961 + 3767.4544350593 * t);
-        Y1 += 0.00000011294 * Math.cos(0.59272382037 + 1350.1112271423 * t);
-        Y1 += 0.00000011234 * Math.cos(0.74117477922 + 6438.7400669091 * t);
-        Y1 += 0.00000012654 * Math.cos(0.84471005653 + 529.44714761109 * t);
-        Y1 += 0.00000012118 * Math.cos(0.35273968830 + 537.0483295789 * t);
-        Y1 += 0.00000011323 * Math.cos(0.88738106730 + 522.8212355773 * t);
-        Y1 += 0.00000010300 * Math.cos(2.38634995278 + 7875.91568110771 * t);
-        Y1 += 0.00000010510 * Math.cos(1.46312475386 + 5614.9731936931 * t);
-        Y1 += 0.00000012502 * Math.cos(5.71659694947 + 10420.23010099111 * t);
-        Y1 += 0.00000010338 * Math.cos(3.30466885363 + 10022.0983512351 * t);
-        Y1 += 0.00000008834 * Math.cos(6.25318290526 + 3205.7911641479 * t);
-        Y1 += 0.00000009393 * Math.cos(5.31958384512 + 6836.8890703173 * t);
-        Y1 += 0.00000011331 * Math.cos(5.03073170237 + 6041.5713845691 * t);
-        Y1 += 0.00000008381 * Math.cos(6.15334573581 + 3475.92132421871 * t);
-        Y1 += 0.00000009243 * Math.cos(5.01043204259 + 529.9347825781 * t);
-        Y1 += 0.00000010338 * Math.cos(1.27389725279 + 10022.06384393071 * t);
-        Y1 += 0.00000007850 * Math.cos(5.83678641323 + 2700.4713229023 * t);
-        Y1 += 0.00000008102 * Math.cos(5.53289540376 + 13366.21664263171 * t);
-        Y1 += 0.00000007470 * Math.cos(5.23301908403 + 397.9051859247 * t);
-        Y1 += 0.00000007391 * Math.cos(2.50557265473 + 15643.9240207933 * t);
-        Y1 += 0.00000007798 * Math.cos(2.64875005153 + 6127.8992680407 * t);
-        Y1 += 0.00000007318 * Math.cos(5.33110036381 + 1751.2957139325 * t);
-        Y1 += 0.00000007398 * Math.cos(2.40080315235 + 2942.21960580809 * t);
-        Y1 += 0.00000007000 * Math.cos(2.24141414910 + 3343.8917275653 * t);
-        Y1 += 0.00000006961 * Math.cos(0.94833631216 + 5629.2002876947 * t);
-        Y1 += 0.00000007023 * Math.cos(1.85516355349 + 13362.2058893157 * t);
-        Y1 += 0.00000006810 * Math.cos(5.19498826700 + 4690.23601887509 * t);
-        Y1 += 0.00000006681 * Math.cos(3.04162525271 + 3178.38960805111 * t);
-        Y1 += 0.00000006243 * Math.cos(1.53240997706 + 6298.57213865991 * t);
-        Y1 += 0.00000006294 * Math.cos(3.08194615517 + 3503.3228803155 * t);
-        Y1 += 0.00000006358 * Math.cos(4.02054515470 + 3316.97780643551 * t);
-        Y1 += 0.00000007854 * Math.cos(4.06615442184 + 5729.7502646325 * t);
-        Y1 += 0.00000006174 * Math.cos(3.80238057009 + 5088.3850222833 * t);
-        Y1 += 0.00000006298 * Math.cos(2.10322094908 + 3364.7346819311 * t);
-        Y1 += 0.00000006734 * Math.cos(4.45499670640 + 9830.6328314713 * t);
-        Y1 += 0.00000007590 * Math.cos(3.34937114207 + 8962.6991673937 * t);
-        Y1 += 0.00000006074 * Math.cos(3.57121700387 + 6151.7777057885 * t);
-        Y1 += 0.00000007279 * Math.cos(5.35063229510 + 6894.76776632111 * t);
-        Y1 += 0.00000006015 * Math.cos(0.07301799575 + 853.4401992355 * t);
-        Y1 += 0.00000005586 * Math.cos(4.15031997147 + 10818.3791043993 * t);
-        Y1 += 0.00000005539 * Math.cos(2.54784312119 + 1758.40926093329 * t);
-        Y1 += 0.00000005309 * Math.cos(2.65128148644 + 2648.6986429565 * t);
-        Y1 += 0.00000006531 * Math.cos(4.25297171807 + 6680.4883498149 * t);
-        Y1 += 0.00000005498 * Math.cos(6.10169669980 + 6924.1972748571 * t);
-        Y1 += 0.00000005070 * Math.cos(4.67900323296 + 1596.43025976811 * t);
-        Y1 += 0.00000004841 * Math.cos(5.17216869184 + 6158.8912527893 * t);
-        Y1 += 0.00000005011 * Math.cos(2.03179616213 + 433.9555553603 * t);
-        Y1 += 0.00000005999 * Math.cos(0.30491904963 + 2280.98667902709 * t);
-        Y1 += 0.00000004334 * Math.cos(5.65639869182 + 12964.5445208745 * t);
-        Y1 += 0.00000005929 * Math.cos(0.88326220381 + 796.0541893329 * t);
-        Y1 += 0.00000004781 * Math.cos(5.75441905529 + 6144.6641587877 * t);
-        Y1 += 0.00000004633 * Math.cos(2.64397173207 + 2914.2580533073 * t);
-        Y1 += 0.00000004948 * Math.cos(5.71673408235 + 213.0552779545 * t);
-        Y1 += 0.00000003970 * Math.cos(5.05440080471 + 3312.4070567155 * t);
-        Y1 += 0.00000004094 * Math.cos(2.94991179870 + 2810.6776441217 * t);
-        Y1 += 0.00000003913 * Math.cos(1.06659787427 + 3369.3054316511 * t);
-        Y1 += 0.00000003870 * Math.cos(3.93077011499 + 641.12142486571 * t);
-        Y1 += 0.00000004135 * Math.cos(3.45059100231 + 4033.0138454101 * t);
-        Y1 += 0.00000005101 * Math.cos(0.31450098972 + 4292.0870154669 * t);
-        Y1 += 0.00000003721 * Math.cos(3.02454190848 + 3346.3791684907 * t);
-        Y1 += 0.00000003721 * Math.cos(3.09922501016 + 3335.3333198759 * t);
-        Y1 += 0.00000004814 * Math.cos(3.06998978800 + 6688.5822178839 * t);
-        Y1 += 0.00000003684 * Math.cos(5.49241454553 + 5621.5991057269 * t);
-        Y1 += 0.00000003561 * Math.cos(0.96460018959 + 8274.0646845159 * t);
-        Y1 += 0.00000004122 * Math.cos(1.57465436330 + 9866.66069814871 * t);
-        Y1 += 0.00000003629 * Math.cos(5.97000555701 + 3304.8283775059 * t);
-        Y1 += 0.00000004333 * Math.cos(3.32433333179 + 6.86972951729 * t);
-        Y1 += 0.00000004795 * Math.cos(2.00069285188 + 951.9622237341 * t);
-        Y1 += 0.00000003622 * Math.cos(4.42697806631 + 1582.2031657665 * t);
-        Y1 += 0.00000003577 * Math.cos(0.15377977803 + 3376.88411086071 * t);
-        Y1 += 0.00000004037 * Math.cos(4.02725434804 + 8433.00820229911 * t);
-        Y1 += 0.00000003824 * Math.cos(1.42167482126 + 8969.8127143945 * t);
-        Y1 += 0.00000003414 * Math.cos(5.22862391511 + 10022.1484078857 * t);
-        Y1 += 0.00000004384 * Math.cos(2.51318285232 + 11773.6206289989 * t);
-        Y1 += 0.00000004071 * Math.cos(1.88751920598 + 3863.4336622771 * t);
-        Y1 += 0.00000003905 * Math.cos(1.88201830658 + 8955.58562039291 * t);
-        Y1 += 0.00000004291 * Math.cos(4.14240496655 + 2818.2788260895 * t);
-        Y1 += 0.00000003570 * Math.cos(2.45586996283 + 1744.1821669317 * t);
-        Y1 += 0.00000003461 * Math.cos(6.16085694117 + 7633.1870771337 * t);
-        Y1 += 0.00000003246 * Math.cos(5.21859325685 + 149.8070146181 * t);
-        Y1 += 0.00000003160 * Math.cos(1.61898299169 + 3980.7535304973 * t);
-        Y1 += 0.00000004113 * Math.cos(3.93628740170 + 213.5429129215 * t);
-        Y1 += 0.00000003117 * Math.cos(2.24732563525 + 3336.9749088253 * t);
-        Y1 += 0.00000003117 * Math.cos(3.87644128339 + 3344.73757954131 * t);
-        Y1 += 0.00000003201 * Math.cos(1.72052248020 + 3893.93801205869 * t);
-        Y1 += 0.00000003517 * Math.cos(2.23980933192 + 7064.3652031063 * t);
-        Y1 += 0.00000003078 * Math.cos(1.33120857361 + 7235.0380737255 * t);
-        Y1 += 0.00000003414 * Math.cos(5.63720914737 + 10022.01378728011 * t);
-        Y1 += 0.00000002996 * Math.cos(2.48679790692 + 419.72846135871 * t);
-        Y1 += 0.00000003014 * Math.cos(5.98273733492 + 10551.7720626775 * t);
-        Y1 += 0.00000003089 * Math.cos(0.21765550994 + 13359.1704059337 * t);
-        Y1 += 0.00000003393 * Math.cos(3.36919512514 + 3336.8454908673 * t);
-        Y1 += 0.00000002930 * Math.cos(0.54631719683 + 2487.1722274643 * t);
-        Y1 += 0.00000002899 * Math.cos(4.81760357159 + 155.6642169177 * t);
-        Y1 += 0.00000002868 * Math.cos(2.58098704577 + 8270.5415661669 * t);
-        Y1 += 0.00000003341 * Math.cos(4.81114285872 + 8031.3360805419 * t);
-        Y1 += 0.00000002771 * Math.cos(0.78165715714 + 3.2793008655 * t);
-        Y1 += 0.00000003548 * Math.cos(1.76914289559 + 2699.9786368011 * t);
-        Y1 += 0.00000003139 * Math.cos(2.49726447663 + 5459.6201045617 * t);
-        Y1 += 0.00000002993 * Math.cos(4.48513822981 + 3.76693583251 * t);
-        Y1 += 0.00000002558 * Math.cos(0.74612048217 + 7632.6994421667 * t);
-        Y1 += 0.00000002973 * Math.cos(6.11907591951 + 398.3928208917 * t);
-        Y1 += 0.00000002555 * Math.cos(3.40863603224 + 553.8132203259 * t);
-        Y1 += 0.00000002436 * Math.cos(2.68110734466 + 3723.26514143949 * t);
-        Y1 += 0.00000003398 * Math.cos(2.01609731704 + 9225.7830907665 * t);
-        Y1 += 0.00000002528 * Math.cos(4.21676297033 + 3333.8100074853 * t);
-        Y1 += 0.00000002381 * Math.cos(6.11405773217 + 1221.6047488379 * t);
-        Y1 += 0.00000002367 * Math.cos(3.67472867066 + 8429.4850839501 * t);
-        Y1 += 0.00000002452 * Math.cos(4.92871549492 + 2766.5114458485 * t);
-        Y1 += 0.00000003001 * Math.cos(4.34751038511 + 3981.73385156551 * t);
-        Y1 += 0.00000002325 * Math.cos(5.58141344460 + 9382.18381126891 * t);
-        Y1 += 0.00000003095 * Math.cos(0.15312862288 + 6283.3196674749 * t);
-        Y1 += 0.00000002582 * Math.cos(1.41863449393 + 5085.2822285985 * t);
-        Y1 += 0.00000002407 * Math.cos(5.52690969383 + 9808.78200214491 * t);
-        Y1 += 0.00000002189 * Math.cos(5.03087631941 + 4407.3517213733 * t);
-        Y1 += 0.00000002276 * Math.cos(5.75323373198 + 1194.2031927411 * t);
-        Y1 += 0.00000002512 * Math.cos(0.31371446538 + 16173.6149858879 * t);
-        Y1 += 0.00000002182 * Math.cos(3.76616453203 + 1751.7833488995 * t);
-        Y1 += 0.00000002219 * Math.cos(5.63570258068 + 8030.8484455749 * t);
-        Y1 += 0.00000002433 * Math.cos(2.80111269508 + 11081.46302777211 * t);
-        Y1 += 0.00000002433 * Math.cos(6.03898534156 + 5828.2722891311 * t);
-        Y1 += 0.00000002109 * Math.cos(2.06281789191 + 15114.2330556987 * t);
-        Y1 += 0.00000002719 * Math.cos(2.13406336652 + 6468.1695754451 * t);
-        Y1 += 0.00000002025 * Math.cos(1.20186617110 + 3915.2010425181 * t);
-        Y1 += 0.00000001887 * Math.cos(4.88253130307 + 76.50988875911 * t);
-        Y1 += 0.00000001853 * Math.cos(3.38166474355 + 6151.2900708215 * t);
-        Y1 += 0.00000001844 * Math.cos(1.21875300270 + 1692.40948698591 * t);
-        Y1 += 0.00000002127 * Math.cos(1.64433014539 + 3347.90248088131 * t);
-        Y1 += 0.00000001808 * Math.cos(2.17690241100 + 6040.5910635009 * t);
-        Y1 += 0.00000001865 * Math.cos(6.06509881975 + 13760.8425276909 * t);
-        Y1 += 0.00000001998 * Math.cos(1.41278142272 + 5084.7945936315 * t);
-        Y1 += 0.00000001821 * Math.cos(1.67609459019 + 5099.50932260011 * t);
-        Y1 += 0.00000001970 * Math.cos(3.64755835075 + 8827.6340873583 * t);
-        Y1 += 0.00000001948 * Math.cos(0.91793732483 + 5099.0216876331 * t);
-        Y1 += 0.00000001717 * Math.cos(3.64496480459 + 13362.7107779349 * t);
-        Y1 += 0.00000001785 * Math.cos(0.87660197618 + 6660.6932753907 * t);
-        Y1 += 0.00000001744 * Math.cos(0.22355262774 + 6816.53375091851 * t);
-        Y1 += 0.00000001717 * Math.cos(1.61419317923 + 13362.6762706305 * t);
-        Y1 += 0.00000001955 * Math.cos(2.06919305164 + 191.6920835951 * t);
-        Y1 += 0.00000001839 * Math.cos(3.74018886236 + 220.6564599223 * t);
-        Y1 += 0.00000001739 * Math.cos(2.07821758598 + 3281.4823822697 * t);
-        Y1 += 0.00000002059 * Math.cos(5.55274042469 + 26725.1432310819 * t);
-        Y1 += 0.00000001828 * Math.cos(4.08820612940 + 6247.7569330063 * t);
-        Y1 += 0.00000002136 * Math.cos(0.14789369077 + 6872.91693699471 * t);
-        Y1 += 0.00000001698 * Math.cos(4.04558966245 + 3400.23010609691 * t);
-        Y1 += 0.00000001534 * Math.cos(4.85765567337 + 574.10098085129 * t);
-        Y1 += 0.00000001533 * Math.cos(1.46545387500 + 3877.6607562787 * t);
-        Y1 += 0.00000001541 * Math.cos(3.10239552544 + 3495.78900865049 * t);
-        Y1 += 0.00000001628 * Math.cos(2.88073838002 + 10023.06141865111 * t);
-        Y1 += 0.00000001807 * Math.cos(3.79979542581 + 6696.72114206811 * t);
-        Y1 += 0.00000001767 * Math.cos(1.07911547450 + 6661.11335148431 * t);
-        Y1 += 0.00000001525 * Math.cos(4.40073811310 + 206.42936592071 * t);
-        Y1 += 0.00000001957 * Math.cos(2.14746864610 + 7234.5504387585 * t);
-        Y1 += 0.00000001381 * Math.cos(2.72417969364 + 11216.5281078075 * t);
-        Y1 += 0.00000001688 * Math.cos(3.32715704311 + 7108.06686175911 * t);
-        Y1 += 0.00000001517 * Math.cos(0.44332021975 + 3340.38586286849 * t);
-        Y1 += 0.00000001506 * Math.cos(2.34509908751 + 8440.1217492999 * t);
-        Y1 += 0.00000001379 * Math.cos(2.83386638398 + 3127.0695137783 * t);
-        Y1 += 0.00000001360 * Math.cos(0.70558062923 + 3074.24920246151 * t);
-        Y1 += 0.00000001516 * Math.cos(4.69574172401 + 3340.3513555641 * t);
-        Y1 += 0.00000001302 * Math.cos(2.98694119189 + 6666.2161996981 * t);
-        Y1 += 0.00000001588 * Math.cos(5.82625124459 + 8672.21368792411 * t);
-        Y1 += 0.00000001305 * Math.cos(5.68793557454 + 6701.8239902819 * t);
-        Y1 += 0.00000001529 * Math.cos(5.28219831652 + 3547.0417926205 * t);
-        Y1 += 0.00000001317 * Math.cos(3.02872149081 + 7063.87756813929 * t);
-        Y1 += 0.00000001316 * Math.cos(1.55707216163 + 8432.52056733209 * t);
-        Y1 += 0.00000001510 * Math.cos(0.81852178414 + 3134.67069574611 * t);
-        Y1 += 0.00000001232 * Math.cos(2.92729735592 + 1228.7182958387 * t);
-        Y1 += 0.00000001498 * Math.cos(1.47147884583 + 10014.9675505821 * t);
-        Y1 += 0.00000001240 * Math.cos(3.54817212305 + 6836.40143535029 * t);
-        Y1 += 0.00000001407 * Math.cos(2.83762149372 + 18984.5364474931 * t);
-        Y1 += 0.00000001219 * Math.cos(5.41832780376 + 3607.46328590511 * t);
-        Y1 += 0.00000001443 * Math.cos(6.05937575283 + 1059.1381127057 * t);
-        Y1 += 0.00000001157 * Math.cos(5.97375778288 + 110.45013870291 * t);
-        Y1 += 0.00000001195 * Math.cos(5.00661978579 + 11371.9485072417 * t);
-        Y1 += 0.00000001173 * Math.cos(2.57988132706 + 10575.1628654583 * t);
-        Y1 += 0.00000001175 * Math.cos(0.33045598221 + 3320.0808486909 * t);
-        Y1 += 0.00000001171 * Math.cos(5.78563510490 + 3361.6316396757 * t);
-        Y1 += 0.00000001509 * Math.cos(3.03783113783 + 6702.2440663755 * t);
-        Y1 += 0.00000001157 * Math.cos(5.78853307616 + 10235.3801930209 * t);
-        Y1 += 0.00000001097 * Math.cos(1.70038513078 + 12936.0953334067 * t);
-        Y1 += 0.00000001517 * Math.cos(4.49354530734 + 3097.64000524229 * t);
-        Y1 += 0.00000001089 * Math.cos(0.71436474935 + 3170.1833735641 * t);
-        Y1 += 0.00000001068 * Math.cos(2.16721753485 + 6685.0590995349 * t);
-        Y1 += 0.00000001082 * Math.cos(0.90416583587 + 6531.9054737485 * t);
-        Y1 += 0.00000001365 * Math.cos(2.52562707978 + 1039.27042827391 * t);
-        Y1 += 0.00000001415 * Math.cos(1.04940944586 + 647.25465079831 * t);
-        Y1 += 0.00000001028 * Math.cos(3.74893297531 + 6261.9840270079 * t);
-        Y1 += 0.00000001020 * Math.cos(5.40926634456 + 3511.5291148025 * t);
-        Y1 += 0.00000001072 * Math.cos(1.73998305445 + 6677.8782422313 * t);
-        Y1 += 0.00000000994 * Math.cos(5.42870395574 + 2921.37160030811 * t);
-        Y1 += 0.00000000960 * Math.cos(4.58361434342 + 383.1403497067 * t);
-        Y1 += 0.00000001295 * Math.cos(2.76284732234 + 3738.51761262449 * t);
-        Y1 += 0.00000001081 * Math.cos(4.69614075629 + 2906.6568713395 * t);
-        Y1 += 0.00000000958 * Math.cos(4.89612401533 + 4989.3030013807 * t);
-        Y1 += 0.00000000985 * Math.cos(2.19704028035 + 8425.8946552983 * t);
-        Y1 += 0.00000000957 * Math.cos(1.53635048068 + 10575.6505004253 * t);
-        Y1 += 0.00000000922 * Math.cos(2.99315435276 + 9468.51169474051 * t);
-        Y1 += 0.00000000997 * Math.cos(4.10815936593 + 4562.2171755377 * t);
-        Y1 += 0.00000000918 * Math.cos(4.81950299170 + 13171.2452581711 * t);
-        Y1 += 0.00000000929 * Math.cos(1.18788761625 + 10973.3118688665 * t);
-        Y1 += 0.00000000902 * Math.cos(4.76870494203 + 3561.26888662211 * t);
-        Y1 += 0.00000001212 * Math.cos(3.94993855439 + 2804.05173208791 * t);
-        Y1 += 0.00000000887 * Math.cos(0.78830627399 + 3760.3408880585 * t);
-        Y1 += 0.00000000876 * Math.cos(0.12213576951 + 956.53297345411 * t);
-        Y1 += 0.00000001037 * Math.cos(1.02819591637 + 9779.3524936089 * t);
-        Y1 += 0.00000000929 * Math.cos(4.41328786684 + 9070.3626913323 * t);
-        Y1 += 0.00000000857 * Math.cos(4.33561652540 + 1592.3521961493 * t);
-        Y1 += 0.00000000840 * Math.cos(4.83838107436 + 2126.1212248627 * t);
-        Y1 += 0.00000000845 * Math.cos(1.24696667770 + 3120.4436017445 * t);
-        Y1 += 0.00000000954 * Math.cos(4.20015685079 + 2920.8839653411 * t);
-        Y1 += 0.00000000880 * Math.cos(0.90436690304 + 3313.45468808651 * t);
-        Y1 += 0.00000001010 * Math.cos(5.76000534522 + 3253.5480396435 * t);
-        Y1 += 0.00000001124 * Math.cos(0.12127908301 + 10973.7995038335 * t);
-        Y1 += 0.00000000870 * Math.cos(5.21940272331 + 3368.25780028011 * t);
-        Y1 += 0.00000000983 * Math.cos(2.93323832693 + 9595.4829067069 * t);
-        Y1 += 0.00000000852 * Math.cos(3.66784511212 + 11770.0975106499 * t);
-        Y1 += 0.00000000833 * Math.cos(5.80230695626 + 8962.2115324267 * t);
-        Y1 += 0.00000000824 * Math.cos(4.16051327422 + 1861.5020351519 * t);
-        Y1 += 0.00000000974 * Math.cos(0.36383884525 + 3428.16444872311 * t);
-        Y1 += 0.00000001121 * Math.cos(5.85882470690 + 16706.8290693315 * t);
-        Y1 += 0.00000000794 * Math.cos(0.32208800868 + 9168.88471583091 * t);
-        Y1 += 0.00000001033 * Math.cos(5.81660979366 + 5091.90814063229 * t);
-        Y1 += 0.00000000766 * Math.cos(1.17417157046 + 3443.94901840191 * t);
-        Y1 += 0.00000000797 * Math.cos(2.84449171095 + 6282.83203250789 * t);
-        Y1 += 0.00000000758 * Math.cos(4.49492748161 + 14158.9915310991 * t);
-        Y1 += 0.00000000758 * Math.cos(2.48905294849 + 10404.9776298061 * t);
-        Y1 += 0.00000000769 * Math.cos(1.88091311578 + 9639.18456535971 * t);
-        Y1 += 0.00000000762 * Math.cos(5.92055363129 + 2699.49100183409 * t);
-        Y1 += 0.00000000740 * Math.cos(4.94266271898 + 6438.2524319421 * t);
-        Y1 += 0.00000000761 * Math.cos(1.45394111452 + 633.0275567967 * t);
-        Y1 += 0.00000000800 * Math.cos(3.22073412970 + 6519.0020347509 * t);
-        Y1 += 0.00000000725 * Math.cos(1.60564980223 + 6475.28312244591 * t);
-        Y1 += 0.00000000730 * Math.cos(1.45023184025 + 6709.91785835091 * t);
-        Y1 += 0.00000000766 * Math.cos(1.52658947730 + 3148.9203431047 * t);
-        Y1 += 0.00000000795 * Math.cos(5.99980742469 + 16305.1569475743 * t);
-        Y1 += 0.00000000701 * Math.cos(1.70752640570 + 4569.3307225385 * t);
-        Y1 += 0.00000000750 * Math.cos(4.51008391137 + 3297.1373318783 * t);
-        Y1 += 0.00000000762 * Math.cos(5.03600553177 + 2544.07060239989 * t);
-        Y1 += 0.00000000695 * Math.cos(4.07175238073 + 2700.9589578693 * t);
-        Y1 += 0.00000000688 * Math.cos(3.43319222752 + 10029.1946445837 * t);
-        Y1 += 0.00000000923 * Math.cos(3.97995044570 + 10177.01386205009 * t);
-        Y1 += 0.00000000737 * Math.cos(1.61369812975 + 3384.5751564883 * t);
-        Y1 += 0.00000000674 * Math.cos(1.39948916768 + 2807.6421607397 * t);
-        Y1 += 0.00000000845 * Math.cos(5.55184542363 + 9499.5036794891 * t);
-        Y1 += 0.00000000645 * Math.cos(2.88294630681 + 1214.4912018371 * t);
-        Y1 += 0.00000000629 * Math.cos(5.00231468326 + 3237.7634699647 * t);
-        Y1 += 0.00000000627 * Math.cos(5.82288957282 + 13149.3944288447 * t);
-        Y1 += 0.00000000632 * Math.cos(1.23957157188 + 6605.2025996075 * t);
-        Y1 += 0.00000000710 * Math.cos(2.32417028248 + 6461.0560284443 * t);
-        Y1 += 0.00000000701 * Math.cos(1.02423412249 + 3370.2857527193 * t);
-        Y1 += 0.00000000701 * Math.cos(5.09953279615 + 3311.4267356473 * t);
-        Y1 += 0.00000000607 * Math.cos(4.60165319406 + 949.4194264533 * t);
-        Y1 += 0.00000000603 * Math.cos(1.15354487403 + 12566.3955174663 * t);
-        Y1 += 0.00000000605 * Math.cos(2.98188951224 + 11243.9296639043 * t);
-        Y1 += 0.00000000719 * Math.cos(1.82710736781 + 12310.42514109431 * t);
-        Y1 += 0.00000000585 * Math.cos(4.85846707144 + 5827.78465416409 * t);
-        Y1 += 0.00000000622 * Math.cos(4.05950257993 + 7903.3172372045 * t);
-        Y1 += 0.00000000633 * Math.cos(0.43215822310 + 691.9137837433 * t);
-        Y1 += 0.00000000601 * Math.cos(5.38619788070 + 9778.8648586419 * t);
-        Y1 += 0.00000000580 * Math.cos(2.11695908203 + 16702.81831601549 * t);
-        Y1 += 0.00000000598 * Math.cos(0.58815457615 + 3340.8734978355 * t);
-        Y1 += 0.00000000587 * Math.cos(4.41097801741 + 13517.62628874989 * t);
-        Y1 += 0.00000000646 * Math.cos(4.20454528693 + 2111.8941308611 * t);
-        Y1 += 0.00000000592 * Math.cos(3.16453997147 + 2301.8296333929 * t);
-        Y1 += 0.00000000598 * Math.cos(4.84056601855 + 3340.83899053111 * t);
-        Y1 += 0.00000000551 * Math.cos(5.78297804099 + 2693.3577759015 * t);
-        Y1 += 0.00000000544 * Math.cos(0.40037320261 + 16699.7828326335 * t);
-        Y1 += 0.00000000623 * Math.cos(0.15815938701 + 10264.80970155691 * t);
-        Y1 += 0.00000000539 * Math.cos(5.53287635175 + 3490.4194413179 * t);
-        Y1 += 0.00000000568 * Math.cos(1.11670802046 + 1437.41943168211 * t);
-        Y1 += 0.00000000557 * Math.cos(5.56701497497 + 13362.7608345855 * t);
-        Y1 += 0.00000000530 * Math.cos(1.26498700457 + 4555.59126350391 * t);
-        Y1 += 0.00000000647 * Math.cos(5.65099181873 + 4393.1246273717 * t);
-        Y1 += 0.00000000575 * Math.cos(0.86535292594 + 5884.68302909969 * t);
-        Y1 += 0.00000000529 * Math.cos(4.63607035545 + 1376.0176173293 * t);
-        Y1 += 0.00000000537 * Math.cos(4.72219269506 + 3874.07032762691 * t);
-        Y1 += 0.00000000584 * Math.cos(0.55160568707 + 4194.0526259353 * t);
-        Y1 += 0.00000000507 * Math.cos(3.76393309357 + 2177.8939048085 * t);
-        Y1 += 0.00000000505 * Math.cos(6.09136336929 + 9485.2765854875 * t);
-        Y1 += 0.00000000510 * Math.cos(1.03099721510 + 11243.44202893729 * t);
-        Y1 += 0.00000000528 * Math.cos(1.66505268096 + 4555.10362853689 * t);
-        Y1 += 0.00000000499 * Math.cos(2.36218211072 + 3340.43591951909 * t);
-        Y1 += 0.00000000501 * Math.cos(1.36886135802 + 224.5886131854 * t);
-        Y1 += 0.00000000525 * Math.cos(2.51966753829 + 6684.5041542651 * t);
-        Y1 += 0.00000000670 * Math.cos(4.37490154824 + 6657.59023313531 * t);
-        Y1 += 0.00000000634 * Math.cos(3.19136146041 + 242.4847864905 * t);
-        Y1 += 0.00000000513 * Math.cos(3.36933959417 + 3233.19272024471 * t);
-        Y1 += 0.00000000490 * Math.cos(2.60477713212 + 3774.56798206011 * t);
-        Y1 += 0.00000000634 * Math.cos(5.26965239400 + 2707.58486990309 * t);
-        Y1 += 0.00000000613 * Math.cos(2.82952730632 + 5989.3110696563 * t);
-        Y1 += 0.00000000492 * Math.cos(2.75435833662 + 3448.5197681219 * t);
-        Y1 += 0.00000000616 * Math.cos(3.59514782008 + 5642.4420600927 * t);
-        Y1 += 0.00000000555 * Math.cos(2.23497332858 + 18454.8454823985 * t);
-        Y1 += 0.00000000463 * Math.cos(6.10086251037 + 3229.6696018957 * t);
-        Y1 += 0.00000000507 * Math.cos(1.16009561745 + 4136.66661603269 * t);
-        Y1 += 0.00000000477 * Math.cos(2.09135717365 + 12296.1980470927 * t);
-        Y1 += 0.00000000462 * Math.cos(2.91184106959 + 8827.14645239129 * t);
-        Y1 += 0.00000000444 * Math.cos(2.38797656832 + 6705.3471086309 * t);
-        Y1 += 0.00000000549 * Math.cos(4.75768179775 + 3333.2550622155 * t);
-        Y1 += 0.00000000443 * Math.cos(0.02288008382 + 3452.04288647091 * t);
-        Y1 += 0.00000000557 * Math.cos(5.97553834508 + 13362.62621397991 * t);
-        Y1 += 0.00000000437 * Math.cos(3.02498984395 + 13915.77529215809 * t);
-        Y1 += 0.00000000498 * Math.cos(2.76996723863 + 3340.3012989135 * t);
-        Y1 += 0.00000000424 * Math.cos(1.01652866287 + 2301.34199842589 * t);
-        Y1 += 0.00000000433 * Math.cos(2.91189244542 + 6843.9353070153 * t);
-        Y1 += 0.00000000494 * Math.cos(1.91460459095 + 13207.27312484851 * t);
-        Y1 += 0.00000000402 * Math.cos(0.14915077619 + 6571.2623496637 * t);
-        Y1 += 0.00000000453 * Math.cos(4.81695891547 + 3184.9482097821 * t);
-        Y1 += 0.00000000413 * Math.cos(2.77396890115 + 8800.2325312615 * t);
-        Y1 += 0.00000000407 * Math.cos(4.51107276760 + 6048.6849315699 * t);
-        Y1 += 0.00000000488 * Math.cos(1.41132277574 + 2222.1004520805 * t);
-        Y1 += 0.00000000556 * Math.cos(5.04224552796 + 6034.4578375683 * t);
-        Y1 += 0.00000000421 * Math.cos(2.92790084389 + 4379.8828549737 * t);
-        Y1 += 0.00000000472 * Math.cos(5.05170315567 + 4937.0426864679 * t);
-        Y1 += 0.00000000392 * Math.cos(0.42258961591 + 134.8212625519 * t);
-        Y1 += 0.00000000515 * Math.cos(3.61483236959 + 6675.9457465757 * t);
-        Y1 += 0.00000000407 * Math.cos(0.15253113909 + 3392.13658204571 * t);
-        Y1 += 0.00000000407 * Math.cos(5.97123577955 + 3289.5759063209 * t);
-        Y1 += 0.00000000474 * Math.cos(0.17716199109 + 13892.3844893773 * t);
-        Y1 += 0.00000000426 * Math.cos(1.29874033367 + 11614.6771112157 * t);
-        Y1 += 0.00000000384 * Math.cos(4.23498307074 + 6685.3500062411 * t);
-        Y1 += 0.00000000407 * Math.cos(1.89011389134 + 4569.8183575055 * t);
-        Y1 += 0.00000000495 * Math.cos(5.80210043627 + 13119.47728534169 * t);
-        Y1 += 0.00000000366 * Math.cos(1.32035636914 + 263.3277408563 * t);
-        Y1 += 0.00000000370 * Math.cos(6.07332435935 + 3274.36883526891 * t);
-        Y1 += 0.00000000359 * Math.cos(5.81278544284 + 5614.48555872609 * t);
-        Y1 += 0.00000000358 * Math.cos(2.73133393931 + 7910.4307842053 * t);
-        Y1 += 0.00000000360 * Math.cos(0.05052083677 + 3407.3436530977 * t);
-        Y1 += 0.00000000402 * Math.cos(0.72673376114 + 7895.7160552367 * t);
-        Y1 += 0.00000000453 * Math.cos(0.52830795973 + 3113.3801113943 * t);
-        Y1 += 0.00000000394 * Math.cos(4.52689788759 + 9588.3693597061 * t);
-        Y1 += 0.00000000341 * Math.cos(3.01339564635 + 15.49628866851 * t);
-        Y1 += 0.00000000341 * Math.cos(6.24862667433 + 2384.0794532457 * t);
-        Y1 += 0.00000000358 * Math.cos(2.84383303933 + 20.11150191529 * t);
-        Y1 += 0.00000000352 * Math.cos(0.94525987632 + 12721.32828193349 * t);
-        Y1 += 0.00000000422 * Math.cos(0.62253449322 + 19514.2274125877 * t);
-        Y1 += 0.00000000463 * Math.cos(3.67985340584 + 3870.0595743109 * t);
-        Y1 += 0.00000000334 * Math.cos(5.92598354309 + 10595.9382609507 * t);
-        Y1 += 0.00000000333 * Math.cos(6.01075923274 + 5725.1795149125 * t);
-        Y1 += 0.00000000342 * Math.cos(0.47650593061 + 9380.71585523369 * t);
-        Y1 += 0.00000000373 * Math.cos(4.44069988433 + 10021.1007765147 * t);
-        Y1 += 0.00000000380 * Math.cos(0.32090210218 + 7909.94314923829 * t);
-        Y1 += 0.00000000375 * Math.cos(2.90510047685 + 11611.1539928667 * t);
-        Y1 += 0.00000000335 * Math.cos(2.98607740801 + 2939.1841224261 * t);
-        Y1 += 0.00000000340 * Math.cos(2.07426818439 + 7321.36595719711 * t);
-        Y1 += 0.00000000374 * Math.cos(2.46295414488 + 3415.63784275061 * t);
-        Y1 += 0.00000000330 * Math.cos(3.45448516287 + 6677.4579175671 * t);
-        Y1 += 0.00000000412 * Math.cos(5.59490712507 + 3568.3323769723 * t);
-        Y1 += 0.00000000310 * Math.cos(3.13768335245 + 14422.0754544719 * t);
-        Y1 += 0.00000000318 * Math.cos(6.27020713981 + 16460.08971204149 * t);
-        Y1 += 0.00000000338 * Math.cos(4.34051713830 + 10177.5014970171 * t);
-        Y1 += 0.00000000330 * Math.cos(5.62835935709 + 3362.70707350971 * t);
-        Y1 += 0.00000000330 * Math.cos(0.49540756155 + 3319.0054148569 * t);
-        Y1 += 0.00000000348 * Math.cos(4.04651329620 + 9602.5964537077 * t);
-        Y1 += 0.00000000329 * Math.cos(3.37223997989 + 10042.8564930753 * t);
-        Y1 += 0.00000000312 * Math.cos(3.98131656363 + 323.74923414091 * t);
-        Y1 += 0.00000000340 * Math.cos(3.21428644968 + 22325.1488741929 * t);
-        Y1 += 0.00000000403 * Math.cos(0.06698481210 + 6040.10342853389 * t);
-        Y1 += 0.00000000390 * Math.cos(0.53675687816 + 6717.49653756051 * t);
-        Y1 += 0.00000000324 * Math.cos(2.24331129239 + 14584.5420906041 * t);
-        Y1 += 0.00000000298 * Math.cos(5.27497484425 + 3417.1223154589 * t);
-        Y1 += 0.00000000291 * Math.cos(6.25952120602 + 6645.4408042057 * t);
-        Y1 += 0.00000000293 * Math.cos(2.11859534056 + 2676.10019905331 * t);
-        Y1 += 0.00000000332 * Math.cos(4.66699998645 + 4459.61203628611 * t);
-        Y1 += 0.00000000279 * Math.cos(1.51432362320 + 5732.2930619133 * t);
-        Y1 += 0.00000000304 * Math.cos(2.34814397808 + 7204.04608897691 * t);
-        Y1 += 0.00000000280 * Math.cos(6.06841216963 + 3283.9578692477 * t);
-        Y1 += 0.00000000280 * Math.cos(0.05535474901 + 3397.7546191189 * t);
-        Y1 += 0.00000000283 * Math.cos(5.58365349934 + 262.84010588929 * t);
-        Y1 += 0.00000000325 * Math.cos(3.66770932208 + 3266.074645616 * t);
-        Y1 += 0.00000000280 * Math.cos(1.83816934995 + 6688.51490758111 * t);
-        Y1 += 0.00000000284 * Math.cos(5.01320919080 + 5244.2930566845 * t);
-        Y1 += 0.00000000363 * Math.cos(1.22201726104 + 10001.3057020905 * t);
-        Y1 += 0.00000000267 * Math.cos(4.73707730483 + 7255.8134692179 * t);
-        Y1 += 0.00000000348 * Math.cos(2.92764569897 + 1990.5011995575 * t);
-        Y1 += 0.00000000329 * Math.cos(0.89716729335 + 162.2228186487 * t);
-        Y1 += 0.00000000356 * Math.cos(1.66181940614 + 1162.7185218913 * t);
-        Y1 += 0.00000000345 * Math.cos(4.96215457144 + 426.3543733925 * t);
-        Y1 += 0.00000000312 * Math.cos(5.57285955038 + 7255.3258342509 * t);
-        Y1 += 0.00000000260 * Math.cos(1.67326547526 + 11766.5070819981 * t);
-        Y1 += 0.00000000312 * Math.cos(5.27566213630 + 3914.71340755109 * t);
-        Y1 += 0.00000000261 * Math.cos(5.93685801944 + 1588.82907780029 * t);
-        Y1 += 0.00000000260 * Math.cos(4.76140916156 + 11769.6098756829 * t);
-        Y1 += 0.00000000259 * Math.cos(1.56016916326 + 5033.0219136857 * t);
-        Y1 += 0.00000000257 * Math.cos(6.15643297218 + 205.9417309537 * t);
-        Y1 += 0.00000000253 * Math.cos(0.11888703466 + 17101.4549543907 * t);
-        Y1 += 0.00000000253 * Math.cos(1.95240011543 + 16703.28869733031 * t);
-        Y1 += 0.00000000253 * Math.cos(5.79371922564 + 6948.0757126049 * t);
-        Y1 += 0.00000000278 * Math.cos(4.67460813376 + 7322.34627826531 * t);
-        Y1 += 0.00000000255 * Math.cos(2.05970747935 + 11780.7341759997 * t);
-        Y1 += 0.00000000282 * Math.cos(0.09128513887 + 860.55374623631 * t);
-        Y1 += 0.00000000253 * Math.cos(3.98317215792 + 16703.3232046347 * t);
-        Y1 += 0.00000000256 * Math.cos(0.04143904110 + 13936.5506876505 * t);
-        Y1 += 0.00000000240 * Math.cos(1.10034150476 + 2274.3607669933 * t);
-        Y1 += 0.00000000246 * Math.cos(4.96426688535 + 3377.4616094875 * t);
-        Y1 += 0.00000000246 * Math.cos(1.15950003329 + 3304.25087887911 * t);
-        Y1 += 0.00000000270 * Math.cos(3.50813287021 + 1222.09238380491 * t);
-        Y1 += 0.00000000243 * Math.cos(2.01100242811 + 16276.7077601065 * t);
-        Y1 += 0.00000000253 * Math.cos(0.46888034698 + 14314.4119305333 * t);
-        Y1 += 0.00000000225 * Math.cos(2.07472210939 + 10018.4906689311 * t);
-        Y1 += 0.00000000227 * Math.cos(1.47944997014 + 5305.6948710373 * t);
-        Y1 += 0.00000000284 * Math.cos(0.56682884608 + 10157.14617761831 * t);
-        Y1 += 0.00000000244 * Math.cos(2.91803013526 + 2074.8011305899 * t);
-        Y1 += 0.00000000243 * Math.cos(5.89092212082 + 30065.7556577817 * t);
-        Y1 += 0.00000000218 * Math.cos(1.77863871509 + 3030.01544531491 * t);
-        Y1 += 0.00000000220 * Math.cos(4.80019837521 + 16858.23871544969 * t);
-        Y1 += 0.00000000221 * Math.cos(4.00597278506 + 4005.61228931331 * t);
-        Y1 += 0.00000000213 * Math.cos(4.55100609184 + 533.45790092711 * t);
-        Y1 += 0.00000000224 * Math.cos(2.50666934513 + 10025.6715262347 * t);
-        Y1 += 0.00000000216 * Math.cos(4.14679941286 + 10037.33356876791 * t);
-        Y1 += 0.00000000213 * Math.cos(3.70755893129 + 10448.6792884589 * t);
-        Y1 += 0.00000000219 * Math.cos(5.94253384867 + 23.63462026429 * t);
-        Y1 += 0.00000000218 * Math.cos(1.47351363921 + 5641.9544251257 * t);
-        Y1 += 0.00000000211 * Math.cos(2.33151051616 + 6944.5525942559 * t);
-        Y1 += 0.00000000215 * Math.cos(2.61877455491 + 3212.83740084591 * t);
-        Y1 += 0.00000000234 * Math.cos(5.47804588842 + 3185.5031550519 * t);
-        Y1 += 0.00000000212 * Math.cos(2.89638437903 + 3553.66770465429 * t);
-        Y1 += 0.00000000270 * Math.cos(1.43547945741 + 16061.94070863329 * t);
-        Y1 += 0.00000000214 * Math.cos(1.54073481456 + 1545.1101654953 * t);
-        Y1 += 0.00000000213 * Math.cos(1.38873772382 + 17925.1545173039 * t);
-        Y1 += 0.00000000206 * Math.cos(2.74922501212 + 15663.79170522509 * t);
-        Y1 += 0.00000000201 * Math.cos(5.99561851209 + 1835.56843509031 * t);
-        Y1 += 0.00000000211 * Math.cos(3.74100683574 + 3230.64992296391 * t);
-        Y1 += 0.00000000198 * Math.cos(4.93753556250 + 6578.3758966645 * t);
-        Y1 += 0.00000000204 * Math.cos(2.32132107344 + 12323.17927852529 * t);
-        Y1 += 0.00000000204 * Math.cos(3.50487863763 + 3468.8750875207 * t);
-        Y1 += 0.00000000213 * Math.cos(5.38886070050 + 7747.96414807311 * t);
-        Y1 += 0.00000000197 * Math.cos(2.51048924008 + 3340.9235544861 * t);
-        Y1 += 0.00000000221 * Math.cos(0.64591178951 + 3496.20933331471 * t);
-        Y1 += 0.00000000193 * Math.cos(4.34388166294 + 3651.6970430517 * t);
-        Y1 += 0.00000000191 * Math.cos(5.30120263654 + 14712.5609339415 * t);
-        Y1 += 0.00000000242 * Math.cos(2.25789470004 + 6622.0948089695 * t);
-        Y1 += 0.00000000191 * Math.cos(0.52002727082 + 2480.0586804635 * t);
-        Y1 += 0.00000000188 * Math.cos(1.00360687694 + 103.3365917021 * t);
-        Y1 += 0.00000000190 * Math.cos(5.85285761744 + 15508.8589407579 * t);
-        Y1 += 0.00000000182 * Math.cos(3.99129735579 + 8543.2145235185 * t);
-        Y1 += 0.00000000233 * Math.cos(1.89171200408 + 13916.2629271251 * t);
-        Y1 += 0.00000000200 * Math.cos(2.50870443352 + 6677.5873355251 * t);
-        Y1 += 0.00000000249 * Math.cos(3.21111672139 + 699.02733074409 * t);
-        Y1 += 0.00000000237 * Math.cos(3.11974305123 + 7373.13863714289 * t);
-        Y1 += 0.00000000202 * Math.cos(6.20171410320 + 12012.8261146239 * t);
-        Y1 += 0.00000000205 * Math.cos(6.27868730147 + 2946.2303591241 * t);
-        Y1 += 0.00000000230 * Math.cos(2.44828922930 + 1903.19299501769 * t);
-        Y1 += 0.00000000239 * Math.cos(5.27789619503 + 6107.1238725483 * t);
-        Y1 += 0.00000000200 * Math.cos(1.41969751355 + 10001.72577818411 * t);
-        Y1 += 0.00000000174 * Math.cos(4.74303003189 + 6457.1238751812 * t);
-        Y1 += 0.00000000188 * Math.cos(1.45966800471 + 2388.6502029657 * t);
-        Y1 += 0.00000000171 * Math.cos(2.86664255530 + 6756.2502694504 * t);
-        Y1 += 0.00000000174 * Math.cos(1.67176462211 + 6418.38474751031 * t);
-        Y1 += 0.00000000182 * Math.cos(5.80990388322 + 6887.6542193203 * t);
-        Y1 += 0.00000000172 * Math.cos(1.88607439867 + 19402.55313533309 * t);
-        Y1 += 0.00000000169 * Math.cos(2.92046854649 + 522.3336006103 * t);
-        Y1 += 0.00000000176 * Math.cos(2.54512773213 + 7896.20369020371 * t);
-        Y1 += 0.00000000169 * Math.cos(5.91099958335 + 5618.5636223449 * t);
-        Y1 += 0.00000000168 * Math.cos(6.18245369751 + 13575.9926197207 * t);
-        Y1 += 0.00000000184 * Math.cos(2.36726292588 + 7218.2731829785 * t);
-        Y1 += 0.00000000166 * Math.cos(2.25729247368 + 15651.03756779411 * t);
-        Y1 += 0.00000000212 * Math.cos(3.23189207115 + 13363.67384535091 * t);
-        Y1 += 0.00000000169 * Math.cos(5.08944200441 + 2655.8121899573 * t);
-        Y1 += 0.00000000194 * Math.cos(3.66940007407 + 9491.90249752129 * t);
-        Y1 += 0.00000000168 * Math.cos(6.08545323308 + 7314.2524101963 * t);
-        Y1 += 0.00000000177 * Math.cos(6.17969940479 + 3341.3489302845 * t);
-        Y1 += 0.00000000160 * Math.cos(4.59837771648 + 1903.6806299847 * t);
-        Y1 += 0.00000000159 * Math.cos(1.06464153160 + 2008.8013566425 * t);
-        Y1 += 0.00000000177 * Math.cos(3.64016669145 + 6686.9915951905 * t);
-        Y1 += 0.00000000210 * Math.cos(4.66026492368 + 4032.52621044309 * t);
-        Y1 += 0.00000000192 * Math.cos(1.70886670681 + 2751.79141717511 * t);
-        Y1 += 0.00000000153 * Math.cos(0.18475722423 + 2803.56409712089 * t);
-        Y1 += 0.00000000153 * Math.cos(2.83652315799 + 3334.1725803092 * t);
-        Y1 += 0.00000000153 * Math.cos(3.28724376065 + 3347.53990805741 * t);
-        Y1 += 0.00000000152 * Math.cos(4.87261249749 + 5486.53402569149 * t);
-        Y1 += 0.00000000154 * Math.cos(0.41279284728 + 3499.7997619665 * t);
-        Y1 += 0.00000000151 * Math.cos(0.41038595803 + 14054.36349054249 * t);
-        Y1 += 0.00000000169 * Math.cos(0.15695053633 + 19645.7693742741 * t);
-        Y1 += 0.00000000197 * Math.cos(2.91931470058 + 3340.78893388051 * t);
-        Y1 += 0.00000000195 * Math.cos(5.14062276406 + 6546.4035908477 * t);
-        Y1 += 0.00000000185 * Math.cos(4.38503970138 + 1331.8110700573 * t);
-        Y1 += 0.00000000148 * Math.cos(0.31282714714 + 14712.07329897449 * t);
-        Y1 += 0.00000000196 * Math.cos(1.90639910627 + 8982.5668518255 * t);
-        Y1 += 0.00000000158 * Math.cos(3.03913180850 + 14557.1405345073 * t);
-        Y1 += 0.00000000171 * Math.cos(2.92459964259 + 1063.14886602171 * t);
-        Y1 += 0.00000000140 * Math.cos(0.03075322131 + 2786.7992063739 * t);
-        Y1 += 0.00000000149 * Math.cos(3.48529084084 + 13518.1139237169 * t);
-        Y1 += 0.00000000150 * Math.cos(5.75127697164 + 736.1203310153 * t);
-        Y1 += 0.00000000140 * Math.cos(2.21026127637 + 4039.6397574439 * t);
-        Y1 += 0.00000000148 * Math.cos(1.43179985105 + 3053.89388306271 * t);
-        Y1 += 0.00000000141 * Math.cos(0.98834721175 + 7380.2521841437 * t);
-        Y1 += 0.00000000187 * Math.cos(2.80618192029 + 2409.4931573315 * t);
-        Y1 += 0.00000000140 * Math.cos(5.61689203595 + 6692.10533623291 * t);
-        Y1 += 0.00000000171 * Math.cos(1.75603422806 + 14.47091148511 * t);
-        Y1 += 0.00000000135 * Math.cos(3.59243401079 + 4076.7327577151 * t);
-        Y1 += 0.00000000135 * Math.cos(2.53133290785 + 2604.9797306515 * t);
-        Y1 += 0.00000000134 * Math.cos(3.70948493588 + 13554.1417903943 * t);
-        Y1 += 0.00000000133 * Math.cos(0.65445531734 + 3191.29304704871 * t);
-        Y1 += 0.00000000177 * Math.cos(0.26345356290 + 2277.4635606781 * t);
-        Y1 += 0.00000000177 * Math.cos(0.10393431560 + 8959.1760490447 * t);
-        Y1 += 0.00000000135 * Math.cos(0.48499376881 + 3347.4821562171 * t);
-        Y1 += 0.00000000178 * Math.cos(3.44835944864 + 2284.5097973761 * t);
-        Y1 += 0.00000000175 * Math.cos(3.29098160153 + 8966.2222857427 * t);
-        Y1 += 0.00000000131 * Math.cos(5.54343293251 + 9375.0702642681 * t);
-        Y1 += 0.00000000160 * Math.cos(6.02367905890 + 2494.28577446509 * t);
-        Y1 += 0.00000000129 * Math.cos(0.75365086927 + 6680.99828956829 * t);
-        Y1 += 0.00000000152 * Math.cos(6.26142645482 + 12722.7962379687 * t);
-        Y1 += 0.00000000138 * Math.cos(6.18657392368 + 20047.4414960313 * t);
-        Y1 += 0.00000000171 * Math.cos(5.54655180913 + 75.0254160508 * t);
-        Y1 += 0.00000000129 * Math.cos(0.14024939993 + 4846.1440532763 * t);
-        Y1 += 0.00000000134 * Math.cos(1.05473100111 + 4025.9002984093 * t);
-        Y1 += 0.00000000129 * Math.cos(2.83674099689 + 11670.5278547803 * t);
-        Y1 += 0.00000000129 * Math.cos(5.00605848212 + 6680.9637822639 * t);
-        Y1 += 0.00000000157 * Math.cos(5.16739524910 + 9389.2973582697 * t);
-        Y1 += 0.00000000126 * Math.cos(3.21328141790 + 6148.2545874395 * t);
-        Y1 += 0.00000000176 * Math.cos(4.78085909788 + 21.0192129759 * t);
-        Y1 += 0.00000000169 * Math.cos(3.25531409251 + 19004.4041319249 * t);
-        Y1 += 0.00000000155 * Math.cos(4.42535125499 + 3929.9210711915 * t);
-        Y1 += 0.00000000150 * Math.cos(2.94620445414 + 3077.77232081051 * t);
-        Y1 += 0.00000000133 * Math.cos(5.83390369046 + 12840.1161061889 * t);
-        Y1 += 0.00000000137 * Math.cos(4.24430027174 + 6674.4224341851 * t);
-        Y1 += 0.00000000129 * Math.cos(4.58072373782 + 18606.25512851669 * t);
-        Y1 += 0.00000000146 * Math.cos(5.60096860073 + 3284.0529820135 * t);
-        Y1 += 0.00000000146 * Math.cos(0.52279831791 + 3397.6595063531 * t);
-        Y1 += 0.00000000130 * Math.cos(3.84203213016 + 1505.04399160949 * t);
-        Y1 += 0.00000000133 * Math.cos(4.69273543300 + 3627.8186053039 * t);
-        Y1 += 0.00000000125 * Math.cos(3.57968087835 + 4672.42349675709 * t);
-        Y1 += 0.00000000124 * Math.cos(6.11670347030 + 6594.1604663433 * t);
-        Y1 += 0.00000000135 * Math.cos(1.74343590305 + 7902.8296022375 * t);
-        Y1 += 0.00000000147 * Math.cos(3.59302955145 + 536.5606946119 * t);
-        Y1 += 0.00000000123 * Math.cos(0.40369530083 + 1486.2239385487 * t);
-        Y1 += 0.00000000125 * Math.cos(4.15712748419 + 15265.64270181689 * t);
-        Y1 += 0.00000000121 * Math.cos(6.00453207609 + 4534.81561944089 * t);
-        Y1 += 0.00000000134 * Math.cos(4.72288196608 + 2288.58786099491 * t);
-        Y1 += 0.00000000119 * Math.cos(2.99117658049 + 74.53778108379 * t);
-        Y1 += 0.00000000146 * Math.cos(2.76908101941 + 1479.11039154791 * t);
-        Y1 += 0.00000000117 * Math.cos(2.06621235900 + 3344.36210888011 * t);
-        Y1 += 0.00000000117 * Math.cos(0.91596190605 + 3337.3503794865 * t);
-        Y1 += 0.00000000147 * Math.cos(1.07606700174 + 6510.7958002639 * t);
-        Y1 += 0.00000000118 * Math.cos(4.23793013469 + 3531.81687532789 * t);
-        Y1 += 0.00000000160 * Math.cos(1.90920939107 + 3451.0625654027 * t);
-        Y1 += 0.00000000117 * Math.cos(5.16837558174 + 3337.31587218211 * t);
-        Y1 += 0.00000000117 * Math.cos(4.09698399049 + 3344.3966161845 * t);
-        Y1 += 0.00000000118 * Math.cos(4.20346162229 + 9887.0160175475 * t);
-        Y1 += 0.00000000119 * Math.cos(1.28976261169 + 15907.0079441661 * t);
-        Y1 += 0.00000000154 * Math.cos(0.46709104782 + 3134.1555068867 * t);
-        Y1 += 0.00000000118 * Math.cos(1.33279043667 + 3363.62474079271 * t);
-        Y1 += 0.00000000118 * Math.cos(4.79097648197 + 3318.08774757391 * t);
-        Y1 += 0.00000000117 * Math.cos(1.06179529690 + 3184.4555236809 * t);
-        Y1 += 0.00000000117 * Math.cos(5.06197162174 + 3497.2569646857 * t);
-        Y1 += 0.00000000115 * Math.cos(1.85848730524 + 6725.18758318811 * t);
-        Y1 += 0.00000000116 * Math.cos(2.88106561931 + 5243.80542171749 * t);
-        Y1 += 0.00000000124 * Math.cos(3.17992351939 + 2631.86644190671 * t);
-        Y1 += 0.00000000135 * Math.cos(3.17784971271 + 3603.9401675561 * t);
-        Y1 += 0.00000000112 * Math.cos(6.10617816315 + 9065.7919416123 * t);
-        Y1 += 0.00000000152 * Math.cos(1.84450072046 + 1.22413855171 * t);
-        Y1 += 0.00000000127 * Math.cos(1.15557216374 + 7366.02509014209 * t);
-        Y1 += 0.00000000119 * Math.cos(5.17512579994 + 16511.8576848709 * t);
-        Y1 += 0.00000000113 * Math.cos(2.74157549210 + 13745.5900565059 * t);
-        Y1 += 0.00000000155 * Math.cos(0.79710150138 + 6155.3008241375 * t);
-        Y1 += 0.00000000115 * Math.cos(3.22959858043 + 6997.8605405397 * t);
-        Y1 += 0.00000000114 * Math.cos(6.28123647971 + 632.5399218297 * t);
-        Y1 += 0.00000000111 * Math.cos(6.21354218410 + 87.55202202331 * t);
-        Y1 += 0.00000000114 * Math.cos(1.52685816324 + 3987.86707749811 * t);
-        Y1 += 0.00000000125 * Math.cos(6.02617311099 + 5821.1587421303 * t);
-        Y1 += 0.00000000138 * Math.cos(4.58751267867 + 2233.71743849851 * t);
-        Y1 += 0.00000000149 * Math.cos(3.08301584779 + 7373.62627210991 * t);
-        Y1 += 0.00000000131 * Math.cos(5.25025552048 + 6901.8813133219 * t);
-        Y1 += 0.00000000107 * Math.cos(2.71978809026 + 2973.63191522091 * t);
-        Y1 += 0.00000000107 * Math.cos(4.99897363633 + 4672.91113172411 * t);
-        Y1 += 0.00000000145 * Math.cos(2.57143715237 + 2060.5740365883 * t);
-        Y1 += 0.00000000111 * Math.cos(2.15551948866 + 6357.9632542257 * t);
-        Y1 += 0.00000000112 * Math.cos(2.39993760456 + 2575.0631797369 * t);
-        Y1 += 0.00000000139 * Math.cos(5.65971955250 + 3547.5569814799 * t);
-        Y1 += 0.00000000122 * Math.cos(2.84793235795 + 3346.71344648291 * t);
-        Y1 += 0.00000000122 * Math.cos(3.27583456069 + 3334.99904188371 * t);
-        Y1 += 0.00000000114 * Math.cos(3.01986257881 + 931.60690433531 * t);
-        Y1 += 0.00000000112 * Math.cos(3.01795120085 + 7079.1300393243 * t);
-        Y1 += 0.00000000108 * Math.cos(3.30807311845 + 8584.41784841729 * t);
-        Y1 += 0.00000000141 * Math.cos(2.88317170767 + 2907.1445063065 * t);
-        Y1 += 0.00000000139 * Math.cos(4.45925006470 + 5518.9939664753 * t);
-        Y1 += 0.00000000115 * Math.cos(6.13734279118 + 4399.7505394055 * t);
-        Y1 += 0.00000000103 * Math.cos(5.27914306931 + 2487.6598624313 * t);
-        Y1 += 0.00000000140 * Math.cos(4.52778173929 + 6670.8320055333 * t);
-        Y1 += 0.00000000105 * Math.cos(5.17193563022 + 2957.4720769931 * t);
-        Y1 += 0.00000000102 * Math.cos(3.47030687176 + 316.14805217309 * t);
-        Y1 += 0.00000000100 * Math.cos(1.01169943823 + 17918.0409703031 * t);
-        Y1 += 0.00000000120 * Math.cos(4.71438356567 + 3311.3644258799 * t);
-        Y1 += 0.00000000120 * Math.cos(1.40938335297 + 3370.34806248671 * t);
-        Y1 += 0.00000000118 * Math.cos(0.83092751777 + 6606.6870723158 * t);
-        Y1 += 0.00000000098 * Math.cos(2.88130937597 + 17468.6113804619 * t);
-        Y1 += 0.00000000097 * Math.cos(3.61583991386 + 8859.60639317511 * t);
-        Y1 += 0.00000000107 * Math.cos(1.96982954301 + 2391.1930002465 * t);
-        Y1 += 0.00000000132 * Math.cos(4.17534294218 + 3050.3707647137 * t);
-        Y1 += 0.00000000106 * Math.cos(4.20312239248 + 2641.5850959557 * t);
-        Y1 += 0.00000000097 * Math.cos(3.72308479740 + 22345.0165586247 * t);
-        Y1 += 0.00000000101 * Math.cos(2.19730971635 + 10125.1738718015 * t);
-        Y1 += 0.00000000104 * Math.cos(0.35235356880 + 4297.14540015391 * t);
-        Y1 += 0.00000000096 * Math.cos(5.64087470447 + 2679.62331740231 * t);
-        Y1 += 0.00000000111 * Math.cos(6.00152200950 + 10042.4364169817 * t);
-        Y1 += 0.00000000110 * Math.cos(6.25839552650 + 2913.7704183403 * t);
-        Y1 += 0.00000000096 * Math.cos(3.26945343269 + 10006.8286263979 * t);
-        Y1 += 0.00000000112 * Math.cos(2.22451688549 + 11251.04321090511 * t);
-        Y1 += 0.00000000096 * Math.cos(1.66024188153 + 59.13004443009 * t);
-        Y1 += 0.00000000108 * Math.cos(6.12490206072 + 3735.48212924251 * t);
-        Y1 += 0.00000000092 * Math.cos(3.39937164286 + 3708.0805731457 * t);
-        Y1 += 0.00000000097 * Math.cos(2.13065182863 + 2922.35192137631 * t);
-        Y1 += 0.00000000127 * Math.cos(3.31547807544 + 4272.21933103511 * t);
-        Y1 += 0.00000000117 * Math.cos(3.74695427979 + 12168.2465140581 * t);
-        Y1 += 0.00000000116 * Math.cos(6.20968192934 + 10213.5293636945 * t);
-        Y1 += 0.00000000115 * Math.cos(1.94977986471 + 9815.8955491457 * t);
-        Y1 += 0.00000000093 * Math.cos(2.14817772588 + 2772.0343701559 * t);
-        Y1 += 0.00000000104 * Math.cos(3.71898659352 + 6033.9702026013 * t);
-        Y1 += 0.00000000091 * Math.cos(3.61425883493 + 169.3363656495 * t);
-        Y1 += 0.00000000090 * Math.cos(4.44081930332 + 2541.03511901791 * t);
-        Y1 += 0.00000000100 * Math.cos(0.09021007523 + 26887.6098672141 * t);
-        Y1 += 0.00000000096 * Math.cos(1.76469942098 + 640.6337898987 * t);
-        Y1 += 0.00000000090 * Math.cos(1.28021880619 + 846.3266522347 * t);
-        Y1 += 0.00000000089 * Math.cos(3.39079978165 + 2817.7911911225 * t);
-        Y1 += 0.00000000115 * Math.cos(3.89643144493 + 1648.2029397139 * t);
-        Y1 += 0.00000000096 * Math.cos(2.94289920307 + 4049.8460464599 * t);
-        Y1 += 0.00000000113 * Math.cos(4.93121954959 + 4922.8155924663 * t);
-        Y1 += 0.00000000087 * Math.cos(1.02670558277 + 1118.5119746193 * t);
-        Y1 += 0.00000000094 * Math.cos(3.25084340693 + 1272.9248431107 * t);
-        Y1 += 0.00000000110 * Math.cos(2.48041052275 + 21795.4579090983 * t);
-        Y1 += 0.00000000103 * Math.cos(6.11803973071 + 12302.8239591265 * t);
-        Y1 += 0.00000000088 * Math.cos(2.15369137259 + 17654.5367222661 * t);
-        Y1 += 0.00000000119 * Math.cos(1.94804023984 + 3631.3417236529 * t);
-        Y1 += 0.00000000094 * Math.cos(0.15915150031 + 10706.63751684189 * t);
-        Y1 += 0.00000000090 * Math.cos(0.48988280834 + 19800.7021387413 * t);
-        Y1 += 0.00000000117 * Math.cos(4.65239707285 + 1905.70858242391 * t);
-        Y1 += 0.00000000098 * Math.cos(0.70463876405 + 6768.77687542291 * t);
-        Y1 += 0.00000000084 * Math.cos(5.11902672644 + 3152.93109642071 * t);
-        Y1 += 0.00000000084 * Math.cos(4.14632885534 + 3528.7813919459 * t);
-        Y1 += 0.00000000088 * Math.cos(0.91279871901 + 36.84918278771 * t);
-        Y1 += 0.00000000112 * Math.cos(3.74585806690 + 11925.03027511709 * t);
-        Y1 += 0.00000000093 * Math.cos(1.26569825727 + 2538.4923217371 * t);
-        Y1 += 0.00000000091 * Math.cos(3.30441819566 + 10714.23869880971 * t);
-        Y1 += 0.00000000094 * Math.cos(3.26149490187 + 6048.1972966029 * t);
-        Y1 += 0.00000000110 * Math.cos(4.99537778792 + 21946.86755521649 * t);
-        Y1 += 0.00000000085 * Math.cos(6.12081404839 + 16490.0068555445 * t);
-        Y1 += 0.00000000097 * Math.cos(1.60911861040 + 2170.7803578077 * t);
-        Y1 += 0.00000000094 * Math.cos(4.47849317886 + 12943.2088804075 * t);
-        Y1 += 0.00000000088 * Math.cos(1.95089690983 + 4040.12739241091 * t);
-        Y1 += 0.00000000107 * Math.cos(0.22183845911 + 6286.84278582391 * t);
-        Y1 += 0.00000000082 * Math.cos(0.12897329018 + 21548.7185518083 * t);
-        Y1 += 0.00000000081 * Math.cos(5.61725901284 + 3355.0833381849 * t);
-        Y1 += 0.00000000081 * Math.cos(0.50650790580 + 3326.62915018171 * t);
-        Y1 += 0.00000000085 * Math.cos(3.72310585517 + 4106.6493086297 * t);
-        Y1 += 0.00000000082 * Math.cos(6.02187911000 + 18208.1061251085 * t);
-        Y1 += 0.00000000101 * Math.cos(4.84911356755 + 5628.7126527277 * t);
-        Y1 += 0.00000000079 * Math.cos(1.50942161554 + 4778.03185838191 * t);
-        Y1 += 0.00000000083 * Math.cos(3.99309879852 + 3759.3605669903 * t);
-        Y1 += 0.00000000081 * Math.cos(0.53432576001 + 1442.0173912767 * t);
-        Y1 += 0.00000000079 * Math.cos(3.42549882475 + 3302.7232085455 * t);
-        Y1 += 0.00000000079 * Math.cos(2.69826809389 + 3378.98927982111 * t);
-        Y1 += 0.00000000109 * Math.cos(1.10805610503 + 765.54924696289 * t);
-        Y1 += 0.00000000079 * Math.cos(1.18088037992 + 9947.2994990156 * t);
-        Y1 += 0.00000000087 * Math.cos(5.45293469310 + 3181.91272640011 * t);
-        Y1 += 0.00000000092 * Math.cos(3.38758997686 + 684.8002367425 * t);
-        Y1 += 0.00000000078 * Math.cos(2.11522669224 + 4025.4126634423 * t);
-        Y1 += 0.00000000106 * Math.cos(5.10676390423 + 7214.68275432671 * t);
-        Y1 += 0.00000000079 * Math.cos(1.67803485609 + 5562.7128787803 * t);
-        Y1 += 0.00000000094 * Math.cos(5.43559031617 + 1655.3164867147 * t);
-        Y1 += 0.00000000077 * Math.cos(2.80318148641 + 42942.7481566329 * t);
-        Y1 += 0.00000000096 * Math.cos(1.53353605164 + 4447.9950498681 * t);
-        Y1 += 0.00000000079 * Math.cos(5.29022717745 + 1169.83206889211 * t);
-        Y1 += 0.00000000077 * Math.cos(0.48002800064 + 4002.0891709643 * t);
-        Y1 += 0.00000000075 * Math.cos(3.02737043920 + 4988.8153664137 * t);
-        Y1 += 0.00000000103 * Math.cos(3.31511491795 + 6279.7965491259 * t);
-        Y1 += 0.00000000075 * Math.cos(1.36914522483 + 6710.8981794191 * t);
-        Y1 += 0.00000000100 * Math.cos(1.23379947915 + 6654.0671147863 * t);
-        Y1 += 0.00000000075 * Math.cos(5.26781491970 + 1106.89498820129 * t);
-        Y1 += 0.00000000085 * Math.cos(3.07884071954 + 3031.5779215275 * t);
-        Y1 += 0.00000000085 * Math.cos(3.04492619910 + 3650.1345668391 * t);
-        Y1 += 0.00000000102 * Math.cos(5.58829580223 + 220.16882495529 * t);
-        Y1 += 0.00000000077 * Math.cos(3.97228899508 + 3909.6781182107 * t);
-        Y1 += 0.00000000080 * Math.cos(3.93017018663 + 42153.72518556549 * t);
-        Y1 += 0.00000000090 * Math.cos(3.63465564186 + 2277.95119564511 * t);
-        Y1 += 0.00000000074 * Math.cos(3.28312495896 + 10184.5477337151 * t);
-        Y1 += 0.00000000102 * Math.cos(3.28709663996 + 3282.9775481795 * t);
-        Y1 += 0.00000000102 * Math.cos(2.83667027868 + 3398.73494018711 * t);
-        Y1 += 0.00000000077 * Math.cos(5.68389652778 + 20199.2714668137 * t);
-        Y1 += 0.00000000073 * Math.cos(3.78223099359 + 13369.8070712835 * t);
-        Y1 += 0.00000000097 * Math.cos(0.21157168319 + 6784.5614451017 * t);
-        Y1 += 0.00000000092 * Math.cos(0.92188445820 + 3492.7535252685 * t);
-        Y1 += 0.00000000076 * Math.cos(1.15525142920 + 19404.0210913683 * t);
-        Y1 += 0.00000000073 * Math.cos(0.71834577426 + 6365.0768012265 * t);
-        Y1 += 0.00000000080 * Math.cos(2.74867343749 + 8756.5136189565 * t);
-        Y1 += 0.00000000077 * Math.cos(0.86279166830 + 6549.9267091967 * t);
-        Y1 += 0.00000000072 * Math.cos(3.17331282546 + 2067.68758358909 * t);
-        Y1 += 0.00000000073 * Math.cos(3.24032193523 + 20809.2238071617 * t);
-        Y1 += 0.00000000073 * Math.cos(3.75683220932 + 8955.09798542589 * t);
-        Y1 += 0.00000000088 * Math.cos(4.48290442721 + 11883.8269502183 * t);
-        Y1 += 0.00000000070 * Math.cos(2.11654601508 + 6254.38284504009 * t);
-        Y1 += 0.00000000093 * Math.cos(1.79949400982 + 10050.5302850507 * t);
-        Y1 += 0.00000000074 * Math.cos(0.39743697458 + 12725.20961729149 * t);
-        Y1 += 0.00000000069 * Math.cos(4.46900086396 + 1280.0383901115 * t);
-        Y1 += 0.00000000090 * Math.cos(1.32575986288 + 10713.75106384269 * t);
-        Y1 += 0.00000000082 * Math.cos(0.69210206943 + 5401.18646328809 * t);
-        Y1 += 0.00000000072 * Math.cos(1.34421235248 + 18451.3223640495 * t);
-        Y1 += 0.00000000077 * Math.cos(5.18506287875 + 5466.7336515625 * t);
-        Y1 += 0.00000000079 * Math.cos(0.03494157481 + 3351.9019444472 * t);
-        Y1 += 0.00000000079 * Math.cos(6.08882534383 + 3329.8105439194 * t);
-        Y1 += 0.00000000077 * Math.cos(3.36821374117 + 15636.8104737925 * t);
-        Y1 += 0.00000000070 * Math.cos(4.18852998473 + 2011.3441539233 * t);
-        Y1 += 0.00000000068 * Math.cos(2.20697305416 + 9381.2034902007 * t);
-        Y1 += 0.00000000074 * Math.cos(2.64935507870 + 25136.0703357981 * t);
-        Y1 += 0.00000000068 * Math.cos(1.80816186710 + 6489.53276980449 * t);
-        Y1 += 0.00000000078 * Math.cos(3.45047388274 + 3583.0972131903 * t);
-        Y1 += 0.00000000069 * Math.cos(3.47802563975 + 11354.1359851237 * t);
-        Y1 += 0.00000000070 * Math.cos(5.41206396259 + 25287.47998191629 * t);
-        Y1 += 0.00000000070 * Math.cos(5.52776045508 + 35707.4662654239 * t);
-        Y1 += 0.00000000088 * Math.cos(1.52868546432 + 3068.1832868317 * t);
-        Y1 += 0.00000000088 * Math.cos(4.59502570300 + 3613.52920153491 * t);
-        Y1 += 0.00000000065 * Math.cos(1.82205105922 + 15121.3466026995 * t);
-        Y1 += 0.00000000077 * Math.cos(2.56929587888 + 14127.99895376209 * t);
-        Y1 += 0.00000000069 * Math.cos(0.02357643792 + 43739.0461634493 * t);
-        Y1 += 0.00000000066 * Math.cos(5.74550598907 + 5195.48854981791 * t);
-        Y1 += 0.00000000066 * Math.cos(5.74550598907 + 5195.0009148509 * t);
-        Y1 += 0.00000000065 * Math.cos(5.47583793528 + 6708.8702269799 * t);
-        Y1 += 0.00000000071 * Math.cos(0.41816629111 + 10176.94655174729 * t);
-        Y1 += 0.00000000090 * Math.cos(3.58467854106 + 6740.84253279671 * t);
-        Y1 += 0.00000000065 * Math.cos(4.81907662858 + 4140.6773693487 * t);
-        Y1 += 0.00000000064 * Math.cos(2.78231915414 + 9801.6684551441 * t);
-        Y1 += 0.00000000085 * Math.cos(1.40895818486 + 43340.8971600411 * t);
-        Y1 += 0.00000000087 * Math.cos(3.48209962852 + 9859.6144614507 * t);
-        Y1 += 0.00000000074 * Math.cos(5.03444697014 + 10596.4258959177 * t);
-        Y1 += 0.00000000065 * Math.cos(5.65188017283 + 6681.0485947895 * t);
-        Y1 += 0.00000000071 * Math.cos(4.85107944455 + 4143.2201666295 * t);
-        Y1 += 0.00000000066 * Math.cos(0.32887989990 + 3267.2552882681 * t);
-        Y1 += 0.00000000066 * Math.cos(5.79488701874 + 3414.4572000985 * t);
-        Y1 += 0.00000000063 * Math.cos(2.79450851807 + 6467.68194047809 * t);
-        Y1 += 0.00000000064 * Math.cos(0.70758466822 + 3487.66793070691 * t);
-        Y1 += 0.00000000064 * Math.cos(5.41618225042 + 3194.0445576597 * t);
-        Y1 += 0.00000000085 * Math.cos(6.17825225561 + 10720.8646108435 * t);
-        Y1 += 0.00000000062 * Math.cos(3.01771087976 + 35.7840491939 * t);
-        Y1 += 0.00000000062 * Math.cos(6.15930353335 + 36.27168416091 * t);
-        Y1 += 0.00000000064 * Math.cos(2.07206554388 + 11773.13299403189 * t);
-        Y1 += 0.00000000064 * Math.cos(4.96743808710 + 41747.81351144129 * t);
-        Y1 += 0.00000000068 * Math.cos(3.28488221728 + 12809.12412144031 * t);
-        Y1 += 0.00000000062 * Math.cos(1.67633734169 + 18461.9590293993 * t);
-        Y1 += 0.00000000068 * Math.cos(0.42906740811 + 6614.9812619687 * t);
-        Y1 += 0.00000000079 * Math.cos(2.06833189434 + 11236.8161169035 * t);
-        Y1 += 0.00000000066 * Math.cos(4.71978579468 + 9998.20265983511 * t);
-        Y1 += 0.00000000064 * Math.cos(5.14611248392 + 11526.88127170889 * t);
-        Y1 += 0.00000000070 * Math.cos(0.34840349768 + 16858.6590401139 * t);
-        Y1 += 0.00000000065 * Math.cos(3.82789901811 + 20597.0001455577 * t);
-        Y1 += 0.00000000064 * Math.cos(4.43540244948 + 40796.5827401577 * t);
-        Y1 += 0.00000000079 * Math.cos(4.81144487223 + 10730.58326489249 * t);
-        Y1 += 0.00000000062 * Math.cos(0.61927789332 + 20040.3952593333 * t);
-        Y1 += 0.00000000066 * Math.cos(6.18584312904 + 8428.9974489831 * t);
-        Y1 += 0.00000000079 * Math.cos(5.86016787523 + 40398.4337367495 * t);
-        Y1 += 0.00000000059 * Math.cos(0.23825712673 + 44959.3038585067 * t);
-        Y1 += 0.00000000063 * Math.cos(0.00069466290 + 20743.1895259099 * t);
-        Y1 += 0.00000000060 * Math.cos(4.02422394326 + 10016.5581732755 * t);
-        Y1 += 0.00000000059 * Math.cos(3.94228594452 + 13745.10242153889 * t);
-        Y1 += 0.00000000067 * Math.cos(3.09157172324 + 9329.9234963561 * t);
-        Y1 += 0.00000000078 * Math.cos(1.63178356452 + 24606.3793707035 * t);
-        Y1 += 0.00000000080 * Math.cos(3.21443220409 + 5202.6020968187 * t);
-        Y1 += 0.00000000057 * Math.cos(4.86026303770 + 12928.98178640591 * t);
-        Y1 += 0.00000000080 * Math.cos(1.00062919899 + 27417.3008323087 * t);
-        Y1 += 0.00000000077 * Math.cos(4.25649384915 + 4845.6564183093 * t);
-        Y1 += 0.00000000062 * Math.cos(2.85482467160 + 12987.86801335249 * t);
-        Y1 += 0.00000000057 * Math.cos(4.88274674366 + 5820.6711071633 * t);
-        Y1 += 0.00000000057 * Math.cos(0.00003539968 + 25841.04938475869 * t);
-        Y1 += 0.00000000059 * Math.cos(0.42155176888 + 5945.5921573513 * t);
-        Y1 += 0.00000000061 * Math.cos(0.64683968145 + 3264.59017290771 * t);
-        Y1 += 0.00000000058 * Math.cos(4.86677635959 + 15423.5113783545 * t);
-        Y1 += 0.00000000074 * Math.cos(3.19195801116 + 9623.4444592077 * t);
-        Y1 += 0.00000000062 * Math.cos(4.72968550328 + 3324.02404313351 * t);
-        Y1 += 0.00000000062 * Math.cos(1.39408141536 + 3357.6884452331 * t);
-        Y1 += 0.00000000060 * Math.cos(4.79015337969 + 9225.29545579949 * t);
-        Y1 += 0.00000000061 * Math.cos(5.58622273047 + 5223.93773728571 * t);
-        Y1 += 0.00000000056 * Math.cos(4.51159263204 + 3702.9773809141 * t);
-        Y1 += 0.00000000056 * Math.cos(1.61217428660 + 2978.7351074525 * t);
-        Y1 += 0.00000000055 * Math.cos(3.98689536822 + 12715.68269096791 * t);
-        Y1 += 0.00000000058 * Math.cos(1.49398235066 + 14584.05445563709 * t);
-        Y1 += 0.00000000075 * Math.cos(1.46856818276 + 4776.0039059427 * t);
-        Y1 += 0.00000000054 * Math.cos(4.63507585798 + 45885.2115799245 * t);
-        Y1 += 0.00000000055 * Math.cos(4.91506650009 + 2126.05391455991 * t);
-        Y1 += 0.00000000054 * Math.cos(0.92181027242 + 9381.69617630189 * t);
-        Y1 += 0.00000000054 * Math.cos(2.71877294650 + 5607.3720117253 * t);
-        Y1 += 0.00000000053 * Math.cos(3.09693738935 + 6789.1321948217 * t);
-        Y1 += 0.00000000058 * Math.cos(5.89934208420 + 3268.8005108285 * t);
-        Y1 += 0.00000000058 * Math.cos(0.22442483444 + 3412.9119775381 * t);
-        Y1 += 0.00000000053 * Math.cos(0.16426574878 + 12509.00950756369 * t);
-        Y1 += 0.00000000053 * Math.cos(0.16426574878 + 12509.4971425307 * t);
-        Y1 += 0.00000000073 * Math.cos(5.56901413325 + 14867.49369840869 * t);
-        Y1 += 0.00000000053 * Math.cos(2.19783708455 + 14481.4493163855 * t);
-        Y1 += 0.00000000054 * Math.cos(1.94626267929 + 24491.18197509989 * t);
-        Y1 += 0.00000000052 * Math.cos(3.15010220845 + 6813.0106325695 * t);
-        Y1 += 0.00000000054 * Math.cos(4.66674950044 + 8186.2688450091 * t);
-        Y1 += 0.00000000054 * Math.cos(1.57540808090 + 21150.56954840009 * t);
-        Y1 += 0.00000000054 * Math.cos(1.30773052880 + 8226.8226538619 * t);
-        Y1 += 0.00000000054 * Math.cos(5.80728044581 + 18849.4713674577 * t);
-        Y1 += 0.00000000068 * Math.cos(5.38162441083 + 20213.4985608153 * t);
-        Y1 += 0.00000000062 * Math.cos(5.91673914049 + 9175.9982628317 * t);
-        Y1 += 0.00000000068 * Math.cos(5.53849729729 + 2391.6806352135 * t);
-        Y1 += 0.00000000055 * Math.cos(5.68275033208 + 23539.46356884929 * t);
-        Y1 += 0.00000000072 * Math.cos(5.07506580904 + 3342.34071689161 * t);
-        Y1 += 0.00000000072 * Math.cos(1.04870110960 + 3339.371771475 * t);
-        Y1 += 0.00000000055 * Math.cos(3.59989833025 + 6843.4476720483 * t);
-        Y1 += 0.00000000060 * Math.cos(2.16467756824 + 4885.72259219509 * t);
-        Y1 += 0.00000000052 * Math.cos(2.30863563499 + 7799.73682801889 * t);
-        Y1 += 0.00000000063 * Math.cos(1.59644930072 + 21265.7669440037 * t);
-        Y1 += 0.00000000069 * Math.cos(0.54846716464 + 24889.33097850809 * t);
-        Y1 += 0.00000000051 * Math.cos(2.96626339056 + 37895.6701078509 * t);
-        Y1 += 0.00000000052 * Math.cos(5.38935505875 + 45088.42593814109 * t);
-        Y1 += 0.00000000051 * Math.cos(4.59657000491 + 12410.9751180321 * t);
-        Y1 += 0.00000000068 * Math.cos(0.08247779224 + 1854.38848815109 * t);
-        Y1 += 0.00000000054 * Math.cos(2.06267581529 + 2736.0065034785 * t);
-        Y1 += 0.00000000052 * Math.cos(2.02950191708 + 16328.48044005229 * t);
-        Y1 += 0.00000000051 * Math.cos(1.14816705620 + 16063.4086646685 * t);
-        Y1 += 0.00000000061 * Math.cos(2.80673408688 + 2655.74487965451 * t);
-        Y1 += 0.00000000056 * Math.cos(1.41031366215 + 8439.6341143329 * t);
-        Y1 += 0.00000000050 * Math.cos(0.09559043051 + 1727.90491115171 * t);
-        Y1 += 0.00000000054 * Math.cos(2.84157218677 + 5408.78764525591 * t);
-        Y1 += 0.00000000059 * Math.cos(4.25728059212 + 12516.6106895315 * t);
-        Y1 += 0.00000000052 * Math.cos(4.01903754148 + 4356.03162710049 * t);
-        Y1 += 0.00000000050 * Math.cos(4.41829954403 + 3116.5114484814 * t);
-        Y1 += 0.00000000050 * Math.cos(1.70549407364 + 3565.2010398852 * t);
-        Y1 += 0.00000000049 * Math.cos(1.47402562828 + 55516.6625273317 * t);
-        Y1 += 0.00000000050 * Math.cos(2.19394619075 + 3742.5283659405 * t);
-        Y1 += 0.00000000048 * Math.cos(3.12444029552 + 1882.83767561889 * t);
-        Y1 += 0.00000000054 * Math.cos(6.04907092105 + 20426.8149099055 * t);
-        Y1 += 0.00000000048 * Math.cos(6.10216369462 + 16865.28495214769 * t);
-        Y1 += 0.00000000061 * Math.cos(2.37337374250 + 19617.3201868063 * t);
-        Y1 += 0.00000000048 * Math.cos(6.23602609768 + 19190.7219959303 * t);
-        Y1 += 0.00000000048 * Math.cos(6.14914151023 + 24341.28449997309 * t);
-        Y1 += 0.00000000056 * Math.cos(2.19344974157 + 10787.3865270623 * t);
-        Y1 += 0.00000000048 * Math.cos(6.18351837234 + 44768.3432273621 * t);
-        Y1 += 0.00000000047 * Math.cos(6.09189138220 + 13517.55897844709 * t);
-        Y1 += 0.00000000051 * Math.cos(3.13613774695 + 5750.1055840313 * t);
-        Y1 += 0.00000000053 * Math.cos(1.88416936813 + 1971.70835637129 * t);
-        Y1 += 0.00000000047 * Math.cos(5.48212564317 + 11876.7134032175 * t);
-        Y1 += 0.00000000047 * Math.cos(4.23460507904 + 2257.59587624631 * t);
-        Y1 += 0.00000000053 * Math.cos(2.37415739297 + 20043.43074271529 * t);
-        Y1 += 0.00000000050 * Math.cos(3.70055414539 + 32765.00284213229 * t);
-        Y1 += 0.00000000047 * Math.cos(4.84924552555 + 39048.5663270907 * t);
-        Y1 += 0.00000000048 * Math.cos(1.43634945815 + 135.30889751891 * t);
-        Y1 += 0.00000000064 * Math.cos(1.47620421839 + 1329.75590774351 * t);
-        Y1 += 0.00000000051 * Math.cos(3.87515145598 + 2693.84541086851 * t);
-        Y1 += 0.00000000055 * Math.cos(4.42106984861 + 5834.8982011649 * t);
-        Y1 += 0.00000000046 * Math.cos(4.98957166191 + 1795.5022612045 * t);
-        Y1 += 0.00000000055 * Math.cos(2.47584695868 + 4403.76129272151 * t);
-        Y1 += 0.00000000048 * Math.cos(5.05121150955 + 14955.2895379155 * t);
-        Y1 += 0.00000000059 * Math.cos(0.56447699816 + 4290.0318531531 * t);
-        Y1 += 0.00000000047 * Math.cos(3.19086921862 + 35464.73766144989 * t);
-        Y1 += 0.00000000047 * Math.cos(3.19086921862 + 35465.2252964169 * t);
-        Y1 += 0.00000000045 * Math.cos(4.94702991651 + 5835.38583613191 * t);
-        Y1 += 0.00000000052 * Math.cos(5.41422776986 + 17660.05964657349 * t);
-        Y1 += 0.00000000048 * Math.cos(5.64285531978 + 1859.44687283811 * t);
-        Y1 += 0.00000000056 * Math.cos(5.43434992198 + 532.9702659601 * t);
-        Y1 += 0.00000000052 * Math.cos(5.51821932984 + 3718.2298520991 * t);
-        Y1 += 0.00000000052 * Math.cos(0.60554758880 + 2963.4826362675 * t);
-        Y1 += 0.00000000045 * Math.cos(1.65750320067 + 22487.12787535809 * t);
-        Y1 += 0.00000000061 * Math.cos(3.03243825296 + 7380.7398191107 * t);
-        Y1 += 0.00000000045 * Math.cos(1.23507902380 + 38252.2683202743 * t);
-        Y1 += 0.00000000045 * Math.cos(4.90245609377 + 8741.79888998789 * t);
-        Y1 += 0.00000000054 * Math.cos(5.75594735581 + 1056.1026293237 * t);
-        Y1 += 0.00000000045 * Math.cos(0.78221109473 + 5511.8804194745 * t);
-        Y1 += 0.00000000045 * Math.cos(3.65721451906 + 664.99986261351 * t);
-        Y1 += 0.00000000045 * Math.cos(3.65721451906 + 664.51222764649 * t);
-        Y1 += 0.00000000045 * Math.cos(1.58220885506 + 3973.6399834965 * t);
-        Y1 += 0.00000000044 * Math.cos(1.64971708603 + 5401.6740982551 * t);
-        Y1 += 0.00000000054 * Math.cos(3.22681077430 + 931.1192693683 * t);
-        Y1 += 0.00000000046 * Math.cos(4.82251193103 + 5881.6475457177 * t);
-        Y1 += 0.00000000050 * Math.cos(0.95411798734 + 1744.66980189871 * t);
-        Y1 += 0.00000000044 * Math.cos(1.88527980304 + 3244.8770169655 * t);
-        Y1 += 0.00000000044 * Math.cos(4.23848711560 + 3436.8354714011 * t);
-        Y1 += 0.00000000045 * Math.cos(3.09915237980 + 1265.81129610991 * t);
-        Y1 += 0.00000000044 * Math.cos(4.49759555733 + 17499.6039577989 * t);
-        Y1 += 0.00000000043 * Math.cos(1.18409883166 + 97670.14389541368 * t);
-        Y1 += 0.00000000057 * Math.cos(3.23899428569 + 46283.3605833327 * t);
-        Y1 += 0.00000000044 * Math.cos(0.27827134364 + 10191.17364574889 * t);
-        Y1 += 0.00000000043 * Math.cos(1.30628712649 + 33163.6394805075 * t);
-        Y1 += 0.00000000047 * Math.cos(2.27882129437 + 17256.8753538249 * t);
-        Y1 += 0.00000000044 * Math.cos(4.60162306872 + 2708.07250487011 * t);
-        Y1 += 0.00000000059 * Math.cos(3.55006619333 + 2524.20291796811 * t);
-        Y1 += 0.00000000053 * Math.cos(5.27405250378 + 8337.0289750813 * t);
-        Y1 += 0.00000000053 * Math.cos(2.75147057919 + 14054.8511255095 * t);
-        Y1 += 0.00000000043 * Math.cos(3.74257202617 + 12200.2188198749 * t);
-        Y1 += 0.00000000046 * Math.cos(4.35317089818 + 1648.69057468091 * t);
-        Y1 += 0.00000000042 * Math.cos(4.31895676455 + 845.8390172677 * t);
-        Y1 += 0.00000000043 * Math.cos(3.06719963334 + 41194.7317435659 * t);
-        Y1 += 0.00000000047 * Math.cos(5.75600675804 + 13531.78607244869 * t);
-        Y1 += 0.00000000047 * Math.cos(5.82756499631 + 15850.1095692305 * t);
-        Y1 += 0.00000000042 * Math.cos(4.34141462634 + 12729.9097849695 * t);
-        Y1 += 0.00000000043 * Math.cos(1.95297083066 + 15107.1195086979 * t);
-        Y1 += 0.00000000043 * Math.cos(0.33759865283 + 8123.7298796433 * t);
-        Y1 += 0.00000000046 * Math.cos(0.42686371231 + 2325.1932262991 * t);
-        Y1 += 0.00000000043 * Math.cos(0.62743288585 + 14469.34469500049 * t);
-        Y1 += 0.00000000043 * Math.cos(1.18510374809 + 2854.8841913937 * t);
-        Y1 += 0.00000000043 * Math.cos(4.93866317055 + 3826.82829697291 * t);
-        Y1 += 0.00000000041 * Math.cos(2.91455733252 + 42544.5991532247 * t);
-        Y1 += 0.00000000042 * Math.cos(5.52285099034 + 2652.2217613055 * t);
-        Y1 += 0.00000000042 * Math.cos(0.04613741618 + 38086.6307389955 * t);
-        Y1 += 0.00000000045 * Math.cos(0.35782418393 + 3361.1440047087 * t);
-        Y1 += 0.00000000043 * Math.cos(0.97696624636 + 28229.94340520789 * t);
-        Y1 += 0.00000000048 * Math.cos(0.38343131297 + 12825.8890121873 * t);
-        Y1 += 0.00000000052 * Math.cos(4.39773367298 + 6667.2415768815 * t);
-        Y1 += 0.00000000041 * Math.cos(0.69151426786 + 3296.20241094311 * t);
-        Y1 += 0.00000000041 * Math.cos(5.43225265078 + 3385.5100774235 * t);
-        Y1 += 0.00000000043 * Math.cos(1.84753611816 + 46681.5095867409 * t);
-        Y1 += 0.00000000040 * Math.cos(3.38564855874 + 6851.04885401611 * t);
-        Y1 += 0.00000000040 * Math.cos(0.97077467865 + 8983.0544867925 * t);
-        Y1 += 0.00000000043 * Math.cos(0.96789677579 + 20205.89737884749 * t);
-        Y1 += 0.00000000040 * Math.cos(0.36743358073 + 20728.9624319083 * t);
-        Y1 += 0.00000000044 * Math.cos(5.64770312853 + 29698.5313288193 * t);
-        Y1 += 0.00000000041 * Math.cos(1.94195643070 + 4670.36833444331 * t);
-        Y1 += 0.00000000052 * Math.cos(2.83255526859 + 3299.3054531985 * t);
-        Y1 += 0.00000000052 * Math.cos(3.29121165005 + 3382.4070351681 * t);
-        Y1 += 0.00000000041 * Math.cos(0.22123606904 + 48827.6750032161 * t);
-        Y1 += 0.00000000046 * Math.cos(2.01006330908 + 19247.6203708659 * t);
-        Y1 += 0.00000000054 * Math.cos(4.52613106738 + 3319.59321372389 * t);
-        Y1 += 0.00000000039 * Math.cos(2.09902832820 + 743.23387801611 * t);
-        Y1 += 0.00000000039 * Math.cos(5.30952786068 + 26357.43126715249 * t);
-        Y1 += 0.00000000039 * Math.cos(5.30952786068 + 26357.9189021195 * t);
-        Y1 += 0.00000000049 * Math.cos(3.31851905687 + 4025.9676087121 * t);
-        Y1 += 0.00000000054 * Math.cos(0.83545544152 + 574.5886158183 * t);
-        Y1 += 0.00000000052 * Math.cos(0.78436364849 + 1461.29786942991 * t);
-        Y1 += 0.00000000041 * Math.cos(6.03198869566 + 45487.0625765163 * t);
-        Y1 += 0.00000000051 * Math.cos(0.35100574128 + 102.84895673509 * t);
-        Y1 += 0.00000000045 * Math.cos(0.25913855607 + 2715.1860518709 * t);
-        Y1 += 0.00000000045 * Math.cos(5.86462836257 + 3966.52643649571 * t);
-        return Y1 * t;
-    }
-
-
-    static double Y2(double t) // 511 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00068999338 * Math.cos(3.98646823714 + 0.2438174835 * t);
-        Y2 += 0.00082190105 * Math.cos(6.20347735626 + 3340.8562441833 * t);
-        Y2 += 0.00021826465 * Math.cos(1.79418551007 + 6681.46867088311 * t);
-        Y2 += 0.00006036287 * Math.cos(2.31685926546 + 10022.0810975829 * t);
-        Y2 += 0.00001291999 * Math.cos(5.44987502837 + 3340.36860921629 * t);
-        Y2 += 0.00001125170 * Math.cos(2.69734348224 + 13362.6935242827 * t);
-        Y2 += 0.00000182064 * Math.cos(3.05304276213 + 16703.3059509825 * t);
-        Y2 += 0.00000172815 * Math.cos(2.94873550203 + 3337.33312583431 * t);
-        Y2 += 0.00000164573 * Math.cos(3.04867001053 + 3344.3793625323 * t);
-        Y2 += 0.00000128077 * Math.cos(6.01351315277 + 6680.98103591609 * t);
-        Y2 += 0.00000093944 * Math.cos(5.65705056742 + 3185.43584474911 * t);
-        Y2 += 0.00000089463 * Math.cos(0.46100253521 + 3496.2766436175 * t);
-        Y2 += 0.00000040244 * Math.cos(3.43638132202 + 6684.9917892321 * t);
-        Y2 += 0.00000036661 * Math.cos(0.03273396254 + 1059.6257476727 * t);
-        Y2 += 0.00000027490 * Math.cos(3.40043638863 + 20043.9183776823 * t);
-        Y2 += 0.00000024847 * Math.cos(2.00937217942 + 3149.4079780717 * t);
-        Y2 += 0.00000023186 * Math.cos(4.00844398003 + 3532.3045102949 * t);
-        Y2 += 0.00000024495 * Math.cos(4.15948776712 + 2544.5582373669 * t);
-        Y2 += 0.00000020269 * Math.cos(1.87109940843 + 4137.1542509997 * t);
-        Y2 += 0.00000018207 * Math.cos(1.86611344735 + 3098.1276402093 * t);
-        Y2 += 0.00000017365 * Math.cos(2.58782340890 + 2942.7072407751 * t);
-        Y2 += 0.00000016922 * Math.cos(4.25054228122 + 3583.5848481573 * t);
-        Y2 += 0.00000016265 * Math.cos(5.76223029450 + 5622.08674069391 * t);
-        Y2 += 0.00000015988 * Math.cos(0.04373738136 + 1194.6908277081 * t);
-        Y2 += 0.00000015705 * Math.cos(3.19532238212 + 3739.0052475915 * t);
-        Y2 += 0.00000013211 * Math.cos(3.57389938080 + 1990.9888345245 * t);
-        Y2 += 0.00000016835 * Math.cos(0.77752025128 + 2787.2868413409 * t);
-        Y2 += 0.00000012623 * Math.cos(2.17797703414 + 2389.1378379327 * t);
-        Y2 += 0.00000013191 * Math.cos(0.10921424588 + 10021.5934626159 * t);
-        Y2 += 0.00000012309 * Math.cos(5.52906661092 + 3339.8759231151 * t);
-        Y2 += 0.00000015092 * Math.cos(4.96166949645 + 1592.8398311163 * t);
-        Y2 += 0.00000011292 * Math.cos(6.01108408051 + 6526.04827144891 * t);
-        Y2 += 0.00000012308 * Math.cos(0.55813761009 + 3341.83656525151 * t);
-        Y2 += 0.00000011493 * Math.cos(1.28862023253 + 796.5418242999 * t);
-        Y2 += 0.00000014005 * Math.cos(5.33903523173 + 3894.4256470257 * t);
-        Y2 += 0.00000010521 * Math.cos(0.55697469416 + 4400.2381743725 * t);
-        Y2 += 0.00000013157 * Math.cos(4.20120058086 + 155.17658195069 * t);
-        Y2 += 0.00000009155 * Math.cos(3.93426364819 + 4292.5746504339 * t);
-        Y2 += 0.00000008383 * Math.cos(2.52922143175 + 4690.7236538421 * t);
-        Y2 += 0.00000010715 * Math.cos(5.57456315750 + 2146.4092339587 * t);
-        Y2 += 0.00000008087 * Math.cos(3.77030329034 + 10025.6042159319 * t);
-        Y2 += 0.00000008070 * Math.cos(5.98273424636 + 5487.0216606585 * t);
-        Y2 += 0.00000008313 * Math.cos(5.94079629702 + 2957.9597119601 * t);
-        Y2 += 0.00000007119 * Math.cos(0.63326970116 + 1589.3167127673 * t);
-        Y2 += 0.00000007434 * Math.cos(0.16010588018 + 3723.7527764065 * t);
-        Y2 += 0.00000008463 * Math.cos(1.12131692970 + 5088.8726572503 * t);
-        Y2 += 0.00000008851 * Math.cos(0.49531276074 + 4535.3032544079 * t);
-        Y2 += 0.00000006118 * Math.cos(3.76286762082 + 7079.61767429131 * t);
-        Y2 += 0.00000005446 * Math.cos(4.45219169081 + 5885.1706640667 * t);
-        Y2 += 0.00000005632 * Math.cos(2.80162657949 + 553.32558535889 * t);
-        Y2 += 0.00000005307 * Math.cos(3.82276150159 + 242.97242145751 * t);
-        Y2 += 0.00000004779 * Math.cos(0.69754013484 + 1748.2602305505 * t);
-        Y2 += 0.00000005798 * Math.cos(3.32076929671 + 7.3573644843 * t);
-        Y2 += 0.00000005029 * Math.cos(3.76894152326 + 2273.8731320263 * t);
-        Y2 += 0.00000004779 * Math.cos(5.06962801761 + 3333.7426971825 * t);
-        Y2 += 0.00000004645 * Math.cos(1.40550063367 + 951.4745887671 * t);
-        Y2 += 0.00000005308 * Math.cos(2.47347798651 + 6490.0204047715 * t);
-        Y2 += 0.00000005680 * Math.cos(0.65754186652 + 529.9347825781 * t);
-        Y2 += 0.00000004316 * Math.cos(5.37670156241 + 4933.4522578161 * t);
-        Y2 += 0.00000004455 * Math.cos(6.20652322732 + 2288.1002260279 * t);
-        Y2 += 0.00000004106 * Math.cos(5.29894197224 + 5092.3957755993 * t);
-        Y2 += 0.00000004484 * Math.cos(2.40351988921 + 3870.54720927791 * t);
-        Y2 += 0.00000004129 * Math.cos(1.08737767367 + 3347.96979118411 * t);
-        Y2 += 0.00000003982 * Math.cos(3.74330534798 + 23384.5308043821 * t);
-        Y2 += 0.00000003668 * Math.cos(3.61786789234 + 3340.83899053111 * t);
-        Y2 += 0.00000003668 * Math.cos(5.64861564310 + 3340.8734978355 * t);
-        Y2 += 0.00000004603 * Math.cos(2.27732033063 + 7477.7666776995 * t);
-        Y2 += 0.00000003137 * Math.cos(2.23673642314 + 6438.7400669091 * t);
-        Y2 += 0.00000003223 * Math.cos(0.63128088203 + 426.8420083595 * t);
-        Y2 += 0.00000004083 * Math.cos(0.01640199107 + 1349.62359217529 * t);
-        Y2 += 0.00000003073 * Math.cos(4.92973254619 + 1747.7725955835 * t);
-        Y2 += 0.00000003724 * Math.cos(2.35536621176 + 6151.7777057885 * t);
-        Y2 += 0.00000003580 * Math.cos(1.86170380048 + 2280.98667902709 * t);
-        Y2 += 0.00000002506 * Math.cos(3.96683857097 + 5331.6012612243 * t);
-        Y2 += 0.00000002389 * Math.cos(0.46414156874 + 6836.8890703173 * t);
-        Y2 += 0.00000002777 * Math.cos(3.85084197237 + 382.6527147397 * t);
-        Y2 += 0.00000002243 * Math.cos(2.10253884289 + 1350.1112271423 * t);
-        Y2 += 0.00000002179 * Math.cos(1.14130873025 + 6127.8992680407 * t);
-        Y2 += 0.00000002794 * Math.cos(2.98101234342 + 6677.9455525341 * t);
-        Y2 += 0.00000002007 * Math.cos(0.96180685485 + 6682.44899195131 * t);
-        Y2 += 0.00000002204 * Math.cos(4.14833269588 + 9492.3901324883 * t);
-        Y2 += 0.00000001869 * Math.cos(0.85637111445 + 4929.92913946711 * t);
-        Y2 += 0.00000001955 * Math.cos(5.49367553822 + 6681.45141723091 * t);
-        Y2 += 0.00000002432 * Math.cos(5.68694139605 + 640.1411037975 * t);
-        Y2 += 0.00000001785 * Math.cos(3.07914982123 + 3554.1553396213 * t);
-        Y2 += 0.00000001956 * Math.cos(1.24043341247 + 6681.4859245353 * t);
-        Y2 += 0.00000002128 * Math.cos(0.95091645133 + 7740.8506010723 * t);
-        Y2 += 0.00000002132 * Math.cos(1.19742152629 + 398.3928208917 * t);
-        Y2 += 0.00000001915 * Math.cos(1.68899605602 + 191.2044486281 * t);
-        Y2 += 0.00000001620 * Math.cos(0.87029756453 + 7875.91568110771 * t);
-        Y2 += 0.00000001540 * Math.cos(2.82385201055 + 3127.5571487453 * t);
-        Y2 += 0.00000001960 * Math.cos(4.59845924354 + 6924.1972748571 * t);
-        Y2 += 0.00000001559 * Math.cos(5.48531052433 + 2281.4743139941 * t);
-        Y2 += 0.00000001569 * Math.cos(6.04375472798 + 8969.8127143945 * t);
-        Y2 += 0.00000001559 * Math.cos(3.60405990781 + 8955.58562039291 * t);
-        Y2 += 0.00000001390 * Math.cos(0.44447195188 + 13362.2058893157 * t);
-        Y2 += 0.00000001868 * Math.cos(2.55406306387 + 5729.7502646325 * t);
-        Y2 += 0.00000001714 * Math.cos(2.83026602085 + 6674.3551238823 * t);
-        Y2 += 0.00000001444 * Math.cos(1.21697594403 + 2119.00767786191 * t);
-        Y2 += 0.00000001461 * Math.cos(4.09849875613 + 13366.21664263171 * t);
-        Y2 += 0.00000001339 * Math.cos(3.68138328651 + 2145.92159899169 * t);
-        Y2 += 0.00000001222 * Math.cos(5.19573003811 + 6254.8704800071 * t);
-        Y2 += 0.00000001257 * Math.cos(2.41919385934 + 641.12142486571 * t);
-        Y2 += 0.00000001485 * Math.cos(0.07665766008 + 9866.66069814871 * t);
-        Y2 += 0.00000001566 * Math.cos(4.89472263428 + 8962.6991673937 * t);
-        Y2 += 0.00000001160 * Math.cos(0.02227881429 + 6298.57213865991 * t);
-        Y2 += 0.00000001124 * Math.cos(4.70721954486 + 12833.00255918811 * t);
-        Y2 += 0.00000001479 * Math.cos(4.17535755129 + 10420.23010099111 * t);
-        Y2 += 0.00000001201 * Math.cos(1.32662761285 + 3767.4544350593 * t);
-        Y2 += 0.00000001207 * Math.cos(1.69591474761 + 3340.78893388051 * t);
-        Y2 += 0.00000001207 * Math.cos(1.28745285448 + 3340.9235544861 * t);
-        Y2 += 0.00000001403 * Math.cos(1.70344023054 + 6283.3196674749 * t);
-        Y2 += 0.00000001082 * Math.cos(0.42998284063 + 12303.3115940935 * t);
-        Y2 += 0.00000001021 * Math.cos(4.82243595142 + 4562.70481050471 * t);
-        Y2 += 0.00000001086 * Math.cos(3.14202913465 + 1751.2957139325 * t);
-        Y2 += 0.00000001153 * Math.cos(3.38794180744 + 7211.1596359777 * t);
-        Y2 += 0.00000001277 * Math.cos(3.27189335276 + 2699.9786368011 * t);
-        Y2 += 0.00000000930 * Math.cos(4.55598641101 + 2811.1652790887 * t);
-        Y2 += 0.00000000918 * Math.cos(0.03623887552 + 155.6642169177 * t);
-        Y2 += 0.00000000890 * Math.cos(0.84840834382 + 3343.8917275653 * t);
-        Y2 += 0.00000000991 * Math.cos(2.88410008262 + 9830.6328314713 * t);
-        Y2 += 0.00000001152 * Math.cos(3.50867300596 + 951.9622237341 * t);
-        Y2 += 0.00000000877 * Math.cos(2.64329046587 + 10818.3791043993 * t);
-        Y2 += 0.00000001028 * Math.cos(2.84086438787 + 3981.73385156551 * t);
-        Y2 += 0.00000000724 * Math.cos(4.91589406941 + 553.8132203259 * t);
-        Y2 += 0.00000000813 * Math.cos(1.76324310782 + 10022.0983512351 * t);
-        Y2 += 0.00000000728 * Math.cos(4.61545970674 + 853.4401992355 * t);
-        Y2 += 0.00000000746 * Math.cos(3.59416377355 + 9623.9320941747 * t);
-        Y2 += 0.00000000684 * Math.cos(5.74096167481 + 8274.0646845159 * t);
-        Y2 += 0.00000000813 * Math.cos(6.01575669610 + 10022.06384393071 * t);
-        Y2 += 0.00000000641 * Math.cos(3.57436678344 + 6681.40136058031 * t);
-        Y2 += 0.00000000632 * Math.cos(5.44429272359 + 10018.5579792339 * t);
-        Y2 += 0.00000000616 * Math.cos(2.91086112437 + 7235.0380737255 * t);
-        Y2 += 0.00000000846 * Math.cos(1.46603022319 + 6688.5822178839 * t);
-        Y2 += 0.00000000857 * Math.cos(0.35841204861 + 6041.5713845691 * t);
-        Y2 += 0.00000000572 * Math.cos(6.06652679327 + 529.44714761109 * t);
-        Y2 += 0.00000000578 * Math.cos(3.67902081482 + 6040.5910635009 * t);
-        Y2 += 0.00000000568 * Math.cos(0.98475898207 + 15643.9240207933 * t);
-        Y2 += 0.00000000560 * Math.cos(3.79594148168 + 397.9051859247 * t);
-        Y2 += 0.00000000661 * Math.cos(3.68465313325 + 6894.76776632111 * t);
-        Y2 += 0.00000000538 * Math.cos(0.50329899287 + 4690.23601887509 * t);
-        Y2 += 0.00000000701 * Math.cos(2.07056825974 + 3178.38960805111 * t);
-        Y2 += 0.00000000689 * Math.cos(5.65192172854 + 796.0541893329 * t);
-        Y2 += 0.00000000688 * Math.cos(4.04353453116 + 3503.3228803155 * t);
-        Y2 += 0.00000000545 * Math.cos(3.41001382974 + 2766.5114458485 * t);
-        Y2 += 0.00000000550 * Math.cos(1.45021906208 + 7633.1870771337 * t);
-        Y2 += 0.00000000640 * Math.cos(3.16585349800 + 6681.5359811859 * t);
-        Y2 += 0.00000000510 * Math.cos(3.26303726541 + 3893.93801205869 * t);
-        Y2 += 0.00000000617 * Math.cos(0.99681498656 + 3253.5480396435 * t);
-        Y2 += 0.00000000596 * Math.cos(5.12698391726 + 3428.16444872311 * t);
-        Y2 += 0.00000000629 * Math.cos(1.64232890349 + 6.86972951729 * t);
-        Y2 += 0.00000000603 * Math.cos(1.87080717732 + 4292.0870154669 * t);
-        Y2 += 0.00000000548 * Math.cos(5.71337800864 + 6680.4883498149 * t);
-        Y2 += 0.00000000444 * Math.cos(2.70322166823 + 3915.2010425181 * t);
-        Y2 += 0.00000000411 * Math.cos(6.27896145140 + 3980.7535304973 * t);
-        Y2 += 0.00000000560 * Math.cos(4.08717867095 + 26725.1432310819 * t);
-        Y2 += 0.00000000399 * Math.cos(4.13396201386 + 12964.5445208745 * t);
-        Y2 += 0.00000000383 * Math.cos(1.25733997062 + 2700.4713229023 * t);
-        Y2 += 0.00000000409 * Math.cos(3.80977418197 + 7064.3652031063 * t);
-        Y2 += 0.00000000499 * Math.cos(4.46670852178 + 2914.2580533073 * t);
-        Y2 += 0.00000000408 * Math.cos(1.69107992579 + 2648.6986429565 * t);
-        Y2 += 0.00000000494 * Math.cos(1.01711860076 + 1039.27042827391 * t);
-        Y2 += 0.00000000367 * Math.cos(1.15983352898 + 8270.5415661669 * t);
-        Y2 += 0.00000000379 * Math.cos(1.31139516762 + 11081.46302777211 * t);
-        Y2 += 0.00000000354 * Math.cos(4.23224813069 + 1194.2031927411 * t);
-        Y2 += 0.00000000403 * Math.cos(0.13228544943 + 8031.3360805419 * t);
-        Y2 += 0.00000000449 * Math.cos(3.99464222002 + 213.0552779545 * t);
-        Y2 += 0.00000000397 * Math.cos(3.84049099896 + 2544.07060239989 * t);
-        Y2 += 0.00000000344 * Math.cos(4.40570415749 + 4033.0138454101 * t);
-        Y2 += 0.00000000314 * Math.cos(2.74388586902 + 6872.91693699471 * t);
-        Y2 += 0.00000000410 * Math.cos(4.28621405712 + 8433.00820229911 * t);
-        Y2 += 0.00000000297 * Math.cos(0.09404951710 + 574.10098085129 * t);
-        Y2 += 0.00000000326 * Math.cos(1.34034230009 + 10023.06141865111 * t);
-        Y2 += 0.00000000294 * Math.cos(1.26195385099 + 5459.6201045617 * t);
-        Y2 += 0.00000000278 * Math.cos(1.24918021097 + 11216.5281078075 * t);
-        Y2 += 0.00000000274 * Math.cos(4.25063115139 + 10551.7720626775 * t);
-        Y2 += 0.00000000355 * Math.cos(4.32827325380 + 8672.21368792411 * t);
-        Y2 += 0.00000000287 * Math.cos(4.60679040146 + 3495.78900865049 * t);
-        Y2 += 0.00000000282 * Math.cos(4.55464471058 + 13760.8425276909 * t);
-        Y2 += 0.00000000359 * Math.cos(6.00520105343 + 3097.64000524229 * t);
-        Y2 += 0.00000000266 * Math.cos(3.68597750720 + 10022.1484078857 * t);
-        Y2 += 0.00000000284 * Math.cos(1.46414557972 + 5828.2722891311 * t);
-        Y2 += 0.00000000314 * Math.cos(5.08365465116 + 16173.6149858879 * t);
-        Y2 += 0.00000000263 * Math.cos(1.47512984004 + 9468.51169474051 * t);
-        Y2 += 0.00000000277 * Math.cos(4.29922856475 + 3336.8454908673 * t);
-        Y2 += 0.00000000251 * Math.cos(1.08022178481 + 2942.21960580809 * t);
-        Y2 += 0.00000000269 * Math.cos(2.34301425928 + 2487.1722274643 * t);
-        Y2 += 0.00000000256 * Math.cos(5.52886759635 + 5088.3850222833 * t);
-        Y2 += 0.00000000265 * Math.cos(4.09423905022 + 10022.01378728011 * t);
-        Y2 += 0.00000000241 * Math.cos(4.64969172321 + 2301.8296333929 * t);
-        Y2 += 0.00000000232 * Math.cos(5.34839535146 + 13359.1704059337 * t);
-        Y2 += 0.00000000261 * Math.cos(3.53492755311 + 1221.6047488379 * t);
-        Y2 += 0.00000000225 * Math.cos(5.21546840346 + 1751.7833488995 * t);
-        Y2 += 0.00000000252 * Math.cos(3.11351356709 + 1066.7392946735 * t);
-        Y2 += 0.00000000246 * Math.cos(4.94803970472 + 10264.80970155691 * t);
-        Y2 += 0.00000000285 * Math.cos(0.15604991648 + 12310.42514109431 * t);
-        Y2 += 0.00000000243 * Math.cos(2.47247524273 + 9779.3524936089 * t);
-        Y2 += 0.00000000220 * Math.cos(5.34295457148 + 8429.4850839501 * t);
-        Y2 += 0.00000000280 * Math.cos(1.23534408406 + 5091.90814063229 * t);
-        Y2 += 0.00000000214 * Math.cos(1.14917768049 + 2699.49100183409 * t);
-        Y2 += 0.00000000234 * Math.cos(1.82528787325 + 6468.1695754451 * t);
-        Y2 += 0.00000000247 * Math.cos(1.05434658596 + 213.5429129215 * t);
-        Y2 += 0.00000000265 * Math.cos(1.38035585731 + 18984.5364474931 * t);
-        Y2 += 0.00000000206 * Math.cos(5.10353562320 + 6836.40143535029 * t);
-        Y2 += 0.00000000198 * Math.cos(2.14333009014 + 13362.7107779349 * t);
-        Y2 += 0.00000000199 * Math.cos(0.11264416842 + 13362.6762706305 * t);
-        Y2 += 0.00000000267 * Math.cos(0.20812545566 + 5614.9731936931 * t);
-        Y2 += 0.00000000200 * Math.cos(2.34389696982 + 7632.6994421667 * t);
-        Y2 += 0.00000000238 * Math.cos(4.42808531081 + 16706.8290693315 * t);
-        Y2 += 0.00000000189 * Math.cos(4.24906121119 + 3723.26514143949 * t);
-        Y2 += 0.00000000187 * Math.cos(2.81434210031 + 1592.3521961493 * t);
-        Y2 += 0.00000000211 * Math.cos(1.82857292487 + 7108.06686175911 * t);
-        Y2 += 0.00000000244 * Math.cos(1.68371543063 + 242.4847864905 * t);
-        Y2 += 0.00000000193 * Math.cos(2.86364604815 + 9070.3626913323 * t);
-        Y2 += 0.00000000198 * Math.cos(3.69840284408 + 191.6920835951 * t);
-        Y2 += 0.00000000172 * Math.cos(3.26900025992 + 13171.2452581711 * t);
-        Y2 += 0.00000000196 * Math.cos(0.42643861998 + 13207.27312484851 * t);
-        Y2 += 0.00000000234 * Math.cos(3.70618365075 + 7234.5504387585 * t);
-        Y2 += 0.00000000177 * Math.cos(0.37345902868 + 9639.18456535971 * t);
-        Y2 += 0.00000000168 * Math.cos(0.18332006876 + 1052.51220067191 * t);
-        Y2 += 0.00000000170 * Math.cos(1.42456308210 + 4379.8828549737 * t);
-        Y2 += 0.00000000222 * Math.cos(5.10471677470 + 5642.4420600927 * t);
-        Y2 += 0.00000000157 * Math.cos(6.07794150900 + 383.1403497067 * t);
-        Y2 += 0.00000000155 * Math.cos(3.90931440460 + 12296.1980470927 * t);
-        Y2 += 0.00000000154 * Math.cos(3.04637044996 + 10575.6505004253 * t);
-        Y2 += 0.00000000155 * Math.cos(0.75034905139 + 16702.81831601549 * t);
-        Y2 += 0.00000000171 * Math.cos(3.35870246354 + 3184.9482097821 * t);
-        Y2 += 0.00000000148 * Math.cos(4.16708586457 + 10235.3801930209 * t);
-        Y2 += 0.00000000140 * Math.cos(0.21579055276 + 6438.2524319421 * t);
-        Y2 += 0.00000000141 * Math.cos(1.84664759575 + 10029.1946445837 * t);
-        Y2 += 0.00000000154 * Math.cos(1.16100089333 + 2810.6776441217 * t);
-        Y2 += 0.00000000137 * Math.cos(5.90622302168 + 1437.41943168211 * t);
-        Y2 += 0.00000000133 * Math.cos(4.90961144014 + 8827.6340873583 * t);
-        Y2 += 0.00000000131 * Math.cos(0.25165704659 + 3030.01544531491 * t);
-        Y2 += 0.00000000134 * Math.cos(2.50558754072 + 2301.34199842589 * t);
-        Y2 += 0.00000000128 * Math.cos(0.82893704653 + 9382.18381126891 * t);
-        Y2 += 0.00000000119 * Math.cos(1.05918597755 + 5614.48555872609 * t);
-        Y2 += 0.00000000120 * Math.cos(3.55524858904 + 3320.0808486909 * t);
-        Y2 += 0.00000000119 * Math.cos(5.71468810799 + 3361.6316396757 * t);
-        Y2 += 0.00000000116 * Math.cos(5.87199885875 + 3651.6970430517 * t);
-        Y2 += 0.00000000117 * Math.cos(4.28224437586 + 6701.8239902819 * t);
-        Y2 += 0.00000000146 * Math.cos(1.21928643824 + 3738.51761262449 * t);
-        Y2 += 0.00000000129 * Math.cos(2.32040419130 + 6696.72114206811 * t);
-        Y2 += 0.00000000118 * Math.cos(3.47554817815 + 149.8070146181 * t);
-        Y2 += 0.00000000107 * Math.cos(3.54962193881 + 4407.3517213733 * t);
-        Y2 += 0.00000000114 * Math.cos(3.18671462047 + 7322.34627826531 * t);
-        Y2 += 0.00000000105 * Math.cos(1.58662031954 + 6666.2161996981 * t);
-        Y2 += 0.00000000108 * Math.cos(4.17304364327 + 10575.1628654583 * t);
-        Y2 += 0.00000000115 * Math.cos(2.21982999199 + 9168.88471583091 * t);
-        Y2 += 0.00000000130 * Math.cos(1.61147250477 + 10973.7995038335 * t);
-        Y2 += 0.00000000101 * Math.cos(2.88371987525 + 14158.9915310991 * t);
-        Y2 += 0.00000000102 * Math.cos(2.72041962157 + 4562.2171755377 * t);
-        Y2 += 0.00000000099 * Math.cos(4.08432740077 + 5621.5991057269 * t);
-        Y2 += 0.00000000101 * Math.cos(0.61635489651 + 9778.8648586419 * t);
-        Y2 += 0.00000000115 * Math.cos(6.16350509467 + 3148.9203431047 * t);
-        Y2 += 0.00000000131 * Math.cos(5.90042253901 + 6661.11335148431 * t);
-        Y2 += 0.00000000134 * Math.cos(1.31032537502 + 2913.7704183403 * t);
-        Y2 += 0.00000000113 * Math.cos(2.14345351717 + 6519.0020347509 * t);
-        Y2 += 0.00000000096 * Math.cos(5.69334604420 + 2700.9589578693 * t);
-        Y2 += 0.00000000094 * Math.cos(4.95566590883 + 6816.53375091851 * t);
-        Y2 += 0.00000000097 * Math.cos(0.21546380481 + 11371.9485072417 * t);
-        Y2 += 0.00000000118 * Math.cos(3.13572565534 + 10213.5293636945 * t);
-        Y2 += 0.00000000088 * Math.cos(4.49196657842 + 1835.56843509031 * t);
-        Y2 += 0.00000000096 * Math.cos(0.62767532388 + 15114.2330556987 * t);
-        Y2 += 0.00000000119 * Math.cos(5.54166774257 + 10177.01386205009 * t);
-        Y2 += 0.00000000096 * Math.cos(1.11981306669 + 6684.5041542651 * t);
-        Y2 += 0.00000000117 * Math.cos(3.59287220197 + 9225.7830907665 * t);
-        Y2 += 0.00000000095 * Math.cos(5.86251553025 + 5486.53402569149 * t);
-        Y2 += 0.00000000088 * Math.cos(1.02951159717 + 8030.8484455749 * t);
-        Y2 += 0.00000000085 * Math.cos(1.84083503490 + 6151.2900708215 * t);
-        Y2 += 0.00000000089 * Math.cos(5.88609595798 + 10177.5014970171 * t);
-        Y2 += 0.00000000081 * Math.cos(0.23842229522 + 5244.2930566845 * t);
-        Y2 += 0.00000000081 * Math.cos(5.36252162300 + 1505.04399160949 * t);
-        Y2 += 0.00000000079 * Math.cos(3.99668001072 + 10404.9776298061 * t);
-        Y2 += 0.00000000095 * Math.cos(4.50704283927 + 16305.1569475743 * t);
-        Y2 += 0.00000000090 * Math.cos(3.09437543611 + 10014.9675505821 * t);
-        Y2 += 0.00000000098 * Math.cos(3.53367325303 + 9808.78200214491 * t);
-        Y2 += 0.00000000096 * Math.cos(4.43634405431 + 1059.1381127057 * t);
-        Y2 += 0.00000000073 * Math.cos(5.43736834192 + 6660.6932753907 * t);
-        Y2 += 0.00000000077 * Math.cos(5.92439560709 + 4136.66661603269 * t);
-        Y2 += 0.00000000071 * Math.cos(5.75155209191 + 2274.3607669933 * t);
-        Y2 += 0.00000000075 * Math.cos(4.06478068204 + 7903.3172372045 * t);
-        Y2 += 0.00000000098 * Math.cos(1.59156329835 + 6040.10342853389 * t);
-        Y2 += 0.00000000085 * Math.cos(5.15748985329 + 4194.0526259353 * t);
-        Y2 += 0.00000000073 * Math.cos(2.01248478882 + 9380.71585523369 * t);
-        Y2 += 0.00000000093 * Math.cos(1.38217187583 + 1990.5011995575 * t);
-        Y2 += 0.00000000086 * Math.cos(1.47044925000 + 20752.4205449919 * t);
-        Y2 += 0.00000000069 * Math.cos(6.09792009314 + 1903.6806299847 * t);
-        Y2 += 0.00000000070 * Math.cos(6.27372832300 + 2388.6502029657 * t);
-        Y2 += 0.00000000069 * Math.cos(3.74116772307 + 8962.2115324267 * t);
-        Y2 += 0.00000000066 * Math.cos(6.06493527472 + 13517.62628874989 * t);
-        Y2 += 0.00000000069 * Math.cos(4.43286275856 + 30065.7556577817 * t);
-        Y2 += 0.00000000079 * Math.cos(4.41786563798 + 3337.26581553151 * t);
-        Y2 += 0.00000000079 * Math.cos(4.84899849761 + 3344.4466728351 * t);
-        Y2 += 0.00000000064 * Math.cos(3.87843028506 + 25287.47998191629 * t);
-        Y2 += 0.00000000065 * Math.cos(1.67365918241 + 2631.86644190671 * t);
-        Y2 += 0.00000000065 * Math.cos(5.75101393296 + 20199.3387771165 * t);
-        Y2 += 0.00000000061 * Math.cos(0.59227624984 + 4032.52621044309 * t);
-        Y2 += 0.00000000062 * Math.cos(3.62324723182 + 27035.49639498329 * t);
-        Y2 += 0.00000000062 * Math.cos(2.99894804940 + 5641.9544251257 * t);
-        Y2 += 0.00000000063 * Math.cos(6.24532574874 + 12936.0953334067 * t);
-        Y2 += 0.00000000084 * Math.cos(3.95654625717 + 1903.19299501769 * t);
-        Y2 += 0.00000000071 * Math.cos(4.38296840291 + 11770.0975106499 * t);
-        Y2 += 0.00000000072 * Math.cos(0.93455070924 + 13119.47728534169 * t);
-        Y2 += 0.00000000063 * Math.cos(4.06602682655 + 13362.7608345855 * t);
-        Y2 += 0.00000000061 * Math.cos(0.93007138211 + 17411.8081182921 * t);
-        Y2 += 0.00000000060 * Math.cos(0.07444626057 + 3205.7911641479 * t);
-        Y2 += 0.00000000058 * Math.cos(6.22909541546 + 7255.8134692179 * t);
-        Y2 += 0.00000000080 * Math.cos(0.78227120577 + 21795.4579090983 * t);
-        Y2 += 0.00000000064 * Math.cos(5.47349341844 + 6768.77687542291 * t);
-        Y2 += 0.00000000063 * Math.cos(5.13193846811 + 3340.38586286849 * t);
-        Y2 += 0.00000000064 * Math.cos(0.45687855320 + 3914.71340755109 * t);
-        Y2 += 0.00000000056 * Math.cos(1.90007366831 + 27434.1330333585 * t);
-        Y2 += 0.00000000057 * Math.cos(2.44461266111 + 12721.32828193349 * t);
-        Y2 += 0.00000000058 * Math.cos(2.91190076994 + 3475.92132421871 * t);
-        Y2 += 0.00000000066 * Math.cos(0.93306761250 + 14127.99895376209 * t);
-        Y2 += 0.00000000055 * Math.cos(1.64400276973 + 4846.1440532763 * t);
-        Y2 += 0.00000000061 * Math.cos(1.64746236660 + 5989.3110696563 * t);
-        Y2 += 0.00000000056 * Math.cos(5.44862221942 + 16699.7828326335 * t);
-        Y2 += 0.00000000063 * Math.cos(3.10372430555 + 3340.3513555641 * t);
-        Y2 += 0.00000000054 * Math.cos(4.84864924468 + 2786.7992063739 * t);
-        Y2 += 0.00000000059 * Math.cos(4.79379884356 + 7063.87756813929 * t);
-        Y2 += 0.00000000052 * Math.cos(4.93425415169 + 11128.73226830069 * t);
-        Y2 += 0.00000000067 * Math.cos(3.08005724919 + 2233.71743849851 * t);
-        Y2 += 0.00000000051 * Math.cos(4.01654589565 + 30376.10882168309 * t);
-        Y2 += 0.00000000050 * Math.cos(5.75439961134 + 17924.66688233689 * t);
-        Y2 += 0.00000000050 * Math.cos(5.72861660044 + 17925.1545173039 * t);
-        Y2 += 0.00000000049 * Math.cos(1.66917730044 + 14422.0754544719 * t);
-        Y2 += 0.00000000050 * Math.cos(1.30948740291 + 6594.1604663433 * t);
-        Y2 += 0.00000000065 * Math.cos(3.77067948165 + 6107.1238725483 * t);
-        Y2 += 0.00000000050 * Math.cos(4.44963662233 + 4049.8460464599 * t);
-        Y2 += 0.00000000049 * Math.cos(2.99008112282 + 14584.05445563709 * t);
-        Y2 += 0.00000000056 * Math.cos(1.27489003307 + 6702.2440663755 * t);
-        Y2 += 0.00000000051 * Math.cos(6.18955107115 + 8432.52056733209 * t);
-        Y2 += 0.00000000060 * Math.cos(2.66632277065 + 22743.6531969999 * t);
-        Y2 += 0.00000000050 * Math.cos(2.95116022713 + 426.3543733925 * t);
-        Y2 += 0.00000000056 * Math.cos(4.06875165560 + 9499.5036794891 * t);
-        Y2 += 0.00000000048 * Math.cos(6.03463544833 + 21265.7669440037 * t);
-        Y2 += 0.00000000045 * Math.cos(4.27091323030 + 13149.3944288447 * t);
-        Y2 += 0.00000000055 * Math.cos(4.47134992564 + 13362.62621397991 * t);
-        Y2 += 0.00000000047 * Math.cos(4.49173897577 + 9381.69617630189 * t);
-        Y2 += 0.00000000051 * Math.cos(5.47523455944 + 19514.2274125877 * t);
-        Y2 += 0.00000000047 * Math.cos(0.46146406745 + 7321.36595719711 * t);
-        Y2 += 0.00000000048 * Math.cos(1.27966315736 + 23141.8022004081 * t);
-        Y2 += 0.00000000062 * Math.cos(0.36573942120 + 6041.08374960209 * t);
-        Y2 += 0.00000000056 * Math.cos(4.19518698917 + 9595.4829067069 * t);
-        Y2 += 0.00000000045 * Math.cos(0.79736291280 + 17256.38771885789 * t);
-        Y2 += 0.00000000043 * Math.cos(4.70566458674 + 9485.2765854875 * t);
-        Y2 += 0.00000000055 * Math.cos(2.85186159808 + 16061.94070863329 * t);
-        Y2 += 0.00000000042 * Math.cos(1.50287163065 + 8800.2325312615 * t);
-        Y2 += 0.00000000044 * Math.cos(3.94795993501 + 17256.8753538249 * t);
-        Y2 += 0.00000000055 * Math.cos(5.86419756588 + 8425.8946552983 * t);
-        Y2 += 0.00000000043 * Math.cos(0.99542400694 + 6705.3471086309 * t);
-        Y2 += 0.00000000042 * Math.cos(5.91099352451 + 25287.9676168833 * t);
-        Y2 += 0.00000000050 * Math.cos(0.81879571159 + 11773.6206289989 * t);
-        Y2 += 0.00000000046 * Math.cos(2.96889198903 + 10973.3118688665 * t);
-        Y2 += 0.00000000042 * Math.cos(0.44638157419 + 6685.0590995349 * t);
-        Y2 += 0.00000000043 * Math.cos(1.46762912473 + 16460.08971204149 * t);
-        Y2 += 0.00000000042 * Math.cos(2.94486773835 + 6158.8912527893 * t);
-        Y2 += 0.00000000043 * Math.cos(6.18134536230 + 6709.91785835091 * t);
-        Y2 += 0.00000000040 * Math.cos(2.24681835171 + 6531.9054737485 * t);
-        Y2 += 0.00000000050 * Math.cos(4.85860818020 + 13892.3844893773 * t);
-        Y2 += 0.00000000039 * Math.cos(3.92914400055 + 691.9137837433 * t);
-        Y2 += 0.00000000053 * Math.cos(4.53825887195 + 3347.90248088131 * t);
-        Y2 += 0.00000000041 * Math.cos(3.84566705233 + 12323.17927852529 * t);
-        Y2 += 0.00000000050 * Math.cos(0.75703710335 + 18454.8454823985 * t);
-        Y2 += 0.00000000040 * Math.cos(2.10179493054 + 13554.1417903943 * t);
-        Y2 += 0.00000000054 * Math.cos(4.70225786858 + 3333.8100074853 * t);
-        Y2 += 0.00000000049 * Math.cos(2.91514601795 + 6657.59023313531 * t);
-        Y2 += 0.00000000049 * Math.cos(1.48899492537 + 11611.1539928667 * t);
-        Y2 += 0.00000000039 * Math.cos(4.33032994271 + 5243.80542171749 * t);
-        Y2 += 0.00000000036 * Math.cos(0.22475591221 + 19801.1897737083 * t);
-        Y2 += 0.00000000038 * Math.cos(5.19414151817 + 8186.7564799761 * t);
-        Y2 += 0.00000000045 * Math.cos(3.23746394812 + 5628.7126527277 * t);
-        Y2 += 0.00000000038 * Math.cos(5.80558264651 + 11614.6771112157 * t);
-        Y2 += 0.00000000042 * Math.cos(0.01243986230 + 6677.8782422313 * t);
-        Y2 += 0.00000000037 * Math.cos(1.66970207361 + 8428.9974489831 * t);
-        Y2 += 0.00000000036 * Math.cos(2.54319902644 + 17655.0243572331 * t);
-        Y2 += 0.00000000036 * Math.cos(0.22073261720 + 19800.7021387413 * t);
-        Y2 += 0.00000000038 * Math.cos(1.75936320775 + 22325.1488741929 * t);
-        Y2 += 0.00000000039 * Math.cos(1.95232336514 + 3583.0972131903 * t);
-        Y2 += 0.00000000044 * Math.cos(4.50288561893 + 25686.1166202915 * t);
-        Y2 += 0.00000000046 * Math.cos(3.04209835581 + 4447.9950498681 * t);
-        Y2 += 0.00000000047 * Math.cos(3.41581645664 + 8982.5668518255 * t);
-        Y2 += 0.00000000042 * Math.cos(4.56050725497 + 6254.38284504009 * t);
-        Y2 += 0.00000000035 * Math.cos(6.07448879945 + 18606.25512851669 * t);
-        Y2 += 0.00000000035 * Math.cos(0.19110171429 + 5099.50932260011 * t);
-        Y2 += 0.00000000034 * Math.cos(0.27172687467 + 5827.78465416409 * t);
-        Y2 += 0.00000000044 * Math.cos(0.60787197203 + 7902.8296022375 * t);
-        Y2 += 0.00000000034 * Math.cos(4.27738119614 + 15663.79170522509 * t);
-        Y2 += 0.00000000034 * Math.cos(1.49602757441 + 28230.4310401749 * t);
-        Y2 += 0.00000000042 * Math.cos(1.70888858696 + 13363.67384535091 * t);
-        Y2 += 0.00000000034 * Math.cos(0.52829912831 + 3.2793008655 * t);
-        Y2 += 0.00000000038 * Math.cos(3.76470778956 + 6843.9353070153 * t);
-        Y2 += 0.00000000033 * Math.cos(5.81667236094 + 11243.44202893729 * t);
-        Y2 += 0.00000000033 * Math.cos(0.01403753138 + 4778.03185838191 * t);
-        Y2 += 0.00000000035 * Math.cos(3.11315123125 + 26084.2656236997 * t);
-        Y2 += 0.00000000042 * Math.cos(1.90806796448 + 31571.0434668747 * t);
-        Y2 += 0.00000000034 * Math.cos(1.12608521373 + 692.4014187103 * t);
-        Y2 += 0.00000000034 * Math.cos(5.18123693961 + 3347.4821562171 * t);
-        Y2 += 0.00000000037 * Math.cos(4.66424749339 + 3341.3489302845 * t);
-        Y2 += 0.00000000037 * Math.cos(2.42340799880 + 3127.0695137783 * t);
-        Y2 += 0.00000000036 * Math.cos(6.11462616077 + 24606.3793707035 * t);
-        Y2 += 0.00000000032 * Math.cos(4.78655245028 + 8584.41784841729 * t);
-        Y2 += 0.00000000039 * Math.cos(0.81289176033 + 7255.3258342509 * t);
-        Y2 += 0.00000000035 * Math.cos(0.16869923739 + 3333.2550622155 * t);
-        Y2 += 0.00000000031 * Math.cos(1.19546397800 + 10595.9382609507 * t);
-        Y2 += 0.00000000030 * Math.cos(5.08879811241 + 20736.0759789091 * t);
-        Y2 += 0.00000000030 * Math.cos(0.63027515429 + 10713.75106384269 * t);
-        Y2 += 0.00000000032 * Math.cos(5.53354847657 + 1744.1821669317 * t);
-        Y2 += 0.00000000030 * Math.cos(0.55638584024 + 3.76693583251 * t);
-        Y2 += 0.00000000036 * Math.cos(1.13991556835 + 15113.74542073169 * t);
-        Y2 += 0.00000000030 * Math.cos(4.73542045957 + 1222.09238380491 * t);
-        Y2 += 0.00000000031 * Math.cos(0.87259059949 + 2575.0631797369 * t);
-        Y2 += 0.00000000031 * Math.cos(5.25117631915 + 4106.6493086297 * t);
-        Y2 += 0.00000000029 * Math.cos(1.54929293338 + 8827.14645239129 * t);
-        Y2 += 0.00000000030 * Math.cos(0.26033037399 + 640.6337898987 * t);
-        Y2 += 0.00000000037 * Math.cos(5.93731996113 + 14712.5609339415 * t);
-        Y2 += 0.00000000028 * Math.cos(0.10501454676 + 12509.4971425307 * t);
-        Y2 += 0.00000000030 * Math.cos(4.45949277543 + 6282.83203250789 * t);
-        Y2 += 0.00000000029 * Math.cos(0.47095574930 + 16276.7077601065 * t);
-        Y2 += 0.00000000028 * Math.cos(5.08541958812 + 8440.1217492999 * t);
-        Y2 += 0.00000000032 * Math.cos(1.34932157181 + 11769.6098756829 * t);
-        Y2 += 0.00000000030 * Math.cos(5.38099741770 + 24076.6884056089 * t);
-        Y2 += 0.00000000028 * Math.cos(0.59624749600 + 15651.03756779411 * t);
-        Y2 += 0.00000000035 * Math.cos(4.67983397003 + 19004.4041319249 * t);
-        Y2 += 0.00000000035 * Math.cos(2.79291396629 + 14712.07329897449 * t);
-        Y2 += 0.00000000028 * Math.cos(1.28322421957 + 3553.66770465429 * t);
-        Y2 += 0.00000000027 * Math.cos(4.82066236084 + 17101.4549543907 * t);
-        Y2 += 0.00000000029 * Math.cos(1.21995619161 + 27831.79440179969 * t);
-        Y2 += 0.00000000029 * Math.cos(1.21995619161 + 27832.2820367667 * t);
-        Y2 += 0.00000000027 * Math.cos(3.25379008238 + 31172.8944634665 * t);
-        Y2 += 0.00000000027 * Math.cos(5.09561724929 + 3312.4070567155 * t);
-        Y2 += 0.00000000026 * Math.cos(3.78891136297 + 7373.62627210991 * t);
-        Y2 += 0.00000000033 * Math.cos(3.24188267043 + 5629.2002876947 * t);
-        Y2 += 0.00000000027 * Math.cos(4.17474865828 + 3369.3054316511 * t);
-        Y2 += 0.00000000027 * Math.cos(5.73759562221 + 15265.64270181689 * t);
-        Y2 += 0.00000000034 * Math.cos(0.09014018186 + 28628.5800435831 * t);
-        Y2 += 0.00000000027 * Math.cos(3.31652753395 + 19402.55313533309 * t);
-        Y2 += 0.00000000027 * Math.cos(4.95428626263 + 29026.7290469913 * t);
-        Y2 += 0.00000000026 * Math.cos(2.52144336597 + 16065.82204399129 * t);
-        Y2 += 0.00000000026 * Math.cos(1.66505639760 + 21548.7185518083 * t);
-        Y2 += 0.00000000028 * Math.cos(5.18965453043 + 3531.81687532789 * t);
-        Y2 += 0.00000000033 * Math.cos(2.07674201664 + 3870.0595743109 * t);
-        Y2 += 0.00000000025 * Math.cos(6.03467999100 + 12722.7962379687 * t);
-        Y2 += 0.00000000024 * Math.cos(0.33206789998 + 22747.04689739089 * t);
-        Y2 += 0.00000000025 * Math.cos(3.73666908945 + 2957.4720769931 * t);
-        Y2 += 0.00000000032 * Math.cos(1.62301076387 + 12302.8239591265 * t);
-        Y2 += 0.00000000023 * Math.cos(4.44526699765 + 20597.4877805247 * t);
-        Y2 += 0.00000000026 * Math.cos(5.49025029300 + 3877.6607562787 * t);
-        Y2 += 0.00000000025 * Math.cos(2.45276955078 + 27433.64539839149 * t);
-        Y2 += 0.00000000022 * Math.cos(3.74620147475 + 17654.5367222661 * t);
-        Y2 += 0.00000000021 * Math.cos(0.40534339845 + 5085.2822285985 * t);
-        Y2 += 0.00000000022 * Math.cos(6.02899389204 + 13745.10242153889 * t);
-        Y2 += 0.00000000023 * Math.cos(2.71413139567 + 3325.6037729983 * t);
-        Y2 += 0.00000000022 * Math.cos(0.92873709901 + 10714.23869880971 * t);
-        Y2 += 0.00000000023 * Math.cos(0.27276624029 + 3356.10871536831 * t);
-        Y2 += 0.00000000022 * Math.cos(3.22255788727 + 13916.2629271251 * t);
-        Y2 += 0.00000000020 * Math.cos(4.78693375846 + 13518.1139237169 * t);
-        Y2 += 0.00000000020 * Math.cos(2.18685576579 + 14054.36349054249 * t);
-        Y2 += 0.00000000020 * Math.cos(5.32844841938 + 14054.8511255095 * t);
-        Y2 += 0.00000000020 * Math.cos(0.47695326504 + 14071.19569159229 * t);
-        Y2 += 0.00000000021 * Math.cos(2.78252415599 + 20354.27154158369 * t);
-        Y2 += 0.00000000027 * Math.cos(3.22117918900 + 23694.8839682835 * t);
-        Y2 += 0.00000000027 * Math.cos(5.28311501931 + 11925.03027511709 * t);
-        Y2 += 0.00000000023 * Math.cos(4.68280672465 + 1588.82907780029 * t);
-        Y2 += 0.00000000020 * Math.cos(1.50444868935 + 2817.7911911225 * t);
-        Y2 += 0.00000000020 * Math.cos(5.49545285602 + 29977.95981827489 * t);
-        Y2 += 0.00000000019 * Math.cos(5.62633616092 + 27035.9840299503 * t);
-        Y2 += 0.00000000020 * Math.cos(3.61240830848 + 9381.2034902007 * t);
-        Y2 += 0.00000000020 * Math.cos(1.71417155656 + 1063.14886602171 * t);
-        Y2 += 0.00000000020 * Math.cos(2.07071082637 + 36659.6723066415 * t);
-        Y2 += 0.00000000021 * Math.cos(0.27968009759 + 10596.4258959177 * t);
-        Y2 += 0.00000000019 * Math.cos(0.78599577864 + 3340.43591951909 * t);
-        Y2 += 0.00000000020 * Math.cos(2.37181321274 + 34911.6558935745 * t);
-        Y2 += 0.00000000019 * Math.cos(6.18512352666 + 23539.9512038163 * t);
-        Y2 += 0.00000000019 * Math.cos(2.54961603658 + 40000.2847333413 * t);
-        Y2 += 0.00000000020 * Math.cos(2.00641556660 + 2803.56409712089 * t);
-        Y2 += 0.00000000024 * Math.cos(3.64789379261 + 9225.29545579949 * t);
-        Y2 += 0.00000000024 * Math.cos(6.09527572891 + 30376.5964566501 * t);
-        Y2 += 0.00000000022 * Math.cos(3.61088135020 + 537.0483295789 * t);
-        Y2 += 0.00000000019 * Math.cos(4.65375898570 + 30774.7454600583 * t);
-        Y2 += 0.00000000024 * Math.cos(0.25109778339 + 21946.86755521649 * t);
-        Y2 += 0.00000000020 * Math.cos(0.55978137151 + 10787.3865270623 * t);
-        Y2 += 0.00000000018 * Math.cos(0.93810887810 + 23938.1002072245 * t);
-        Y2 += 0.00000000018 * Math.cos(0.65703782614 + 2487.6598624313 * t);
-        Y2 += 0.00000000018 * Math.cos(3.45241957900 + 24491.18197509989 * t);
-        Y2 += 0.00000000021 * Math.cos(0.77336865730 + 522.8212355773 * t);
-        Y2 += 0.00000000023 * Math.cos(5.60162687963 + 37455.9703134579 * t);
-        Y2 += 0.00000000024 * Math.cos(4.31466786422 + 3077.77232081051 * t);
-        Y2 += 0.00000000018 * Math.cos(1.24028262416 + 18208.1061251085 * t);
-        Y2 += 0.00000000024 * Math.cos(4.24184949882 + 4393.1246273717 * t);
-        Y2 += 0.00000000022 * Math.cos(5.20780077851 + 13915.77529215809 * t);
-        Y2 += 0.00000000020 * Math.cos(1.19573990945 + 3340.3012989135 * t);
-        Y2 += 0.00000000017 * Math.cos(5.14097504316 + 22345.0165586247 * t);
-        Y2 += 0.00000000018 * Math.cos(2.26405048660 + 3492.7535252685 * t);
-        Y2 += 0.00000000018 * Math.cos(0.71812377845 + 3188.95896309811 * t);
-        Y2 += 0.00000000017 * Math.cos(2.31066064344 + 17013.65911488389 * t);
-        Y2 += 0.00000000017 * Math.cos(5.73936839879 + 28229.94340520789 * t);
-        Y2 += 0.00000000017 * Math.cos(6.13675229471 + 8186.2688450091 * t);
-        Y2 += 0.00000000017 * Math.cos(1.27636900458 + 5618.5636223449 * t);
-        Y2 += 0.00000000016 * Math.cos(1.17980677135 + 29978.4474532419 * t);
-        Y2 += 0.00000000016 * Math.cos(2.20820580655 + 10448.6792884589 * t);
-        Y2 += 0.00000000022 * Math.cos(4.95674400481 + 3603.9401675561 * t);
-        Y2 += 0.00000000021 * Math.cos(5.05557236085 + 26637.34739157509 * t);
-        Y2 += 0.00000000015 * Math.cos(3.72559974712 + 11371.4608722747 * t);
-        Y2 += 0.00000000018 * Math.cos(0.65953210534 + 18451.3223640495 * t);
-        Y2 += 0.00000000015 * Math.cos(4.39931221730 + 23546.9974405143 * t);
-        Y2 += 0.00000000020 * Math.cos(1.62468835541 + 33319.0598799417 * t);
-        Y2 += 0.00000000015 * Math.cos(0.99941976160 + 17277.6507493173 * t);
-        Y2 += 0.00000000020 * Math.cos(1.01851229845 + 20043.43074271529 * t);
-        return Y2 * t * t;
-    }
-
-
-    static double Y3(double t) // 192 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00001905181 * Math.cos(5.26332442482 + 0.2438174835 * t);
-        Y3 += 0.00000638154 * Math.cos(6.15054891881 + 6681.46867088311 * t);
-        Y3 += 0.00000315844 * Math.cos(0.68812770928 + 10022.0810975829 * t);
-        Y3 += 0.00000167935 * Math.cos(4.34052829824 + 3340.36860921629 * t);
-        Y3 += 0.00000088045 * Math.cos(1.14611813288 + 13362.6935242827 * t);
-        Y3 += 0.00000034296 * Math.cos(6.12954233244 + 3340.8562441833 * t);
-        Y3 += 0.00000019004 * Math.cos(1.53394982779 + 16703.3059509825 * t);
-        Y3 += 0.00000017309 * Math.cos(1.96405922769 + 3496.2766436175 * t);
-        Y3 += 0.00000017052 * Math.cos(4.14009092313 + 3185.43584474911 * t);
-        Y3 += 0.00000012081 * Math.cos(4.55895834821 + 6680.98103591609 * t);
-        Y3 += 0.00000008036 * Math.cos(4.44721122484 + 3337.33312583431 * t);
-        Y3 += 0.00000008075 * Math.cos(1.32135542935 + 3344.3793625323 * t);
-        Y3 += 0.00000003586 * Math.cos(1.89896476323 + 20043.9183776823 * t);
-        Y3 += 0.00000003728 * Math.cos(2.73731234443 + 3583.5848481573 * t);
-        Y3 += 0.00000003708 * Math.cos(3.37008572755 + 3098.1276402093 * t);
-        Y3 += 0.00000002838 * Math.cos(1.86335942445 + 6684.9917892321 * t);
-        Y3 += 0.00000002391 * Math.cos(4.50157894761 + 6526.04827144891 * t);
-        Y3 += 0.00000002389 * Math.cos(0.55881206863 + 3894.4256470257 * t);
-        Y3 += 0.00000002358 * Math.cos(5.53634186088 + 2787.2868413409 * t);
-        Y3 += 0.00000002166 * Math.cos(5.72850515937 + 155.17658195069 * t);
-        Y3 += 0.00000001411 * Math.cos(4.89547894086 + 10021.5934626159 * t);
-        Y3 += 0.00000001300 * Math.cos(5.43963179189 + 4292.5746504339 * t);
-        Y3 += 0.00000001268 * Math.cos(0.63826775689 + 2389.1378379327 * t);
-        Y3 += 0.00000001168 * Math.cos(0.32787695602 + 3149.4079780717 * t);
-        Y3 += 0.00000001170 * Math.cos(5.49045547620 + 3532.3045102949 * t);
-        Y3 += 0.00000001149 * Math.cos(0.25632426200 + 4137.1542509997 * t);
-        Y3 += 0.00000001000 * Math.cos(0.78268074251 + 3339.8759231151 * t);
-        Y3 += 0.00000001053 * Math.cos(5.58094872648 + 2544.5582373669 * t);
-        Y3 += 0.00000000909 * Math.cos(4.03516115356 + 4690.7236538421 * t);
-        Y3 += 0.00000000997 * Math.cos(5.22732432514 + 3341.83656525151 * t);
-        Y3 += 0.00000000874 * Math.cos(2.00558552866 + 1990.9888345245 * t);
-        Y3 += 0.00000000773 * Math.cos(2.25965967719 + 10025.6042159319 * t);
-        Y3 += 0.00000000800 * Math.cos(1.65801132134 + 3723.7527764065 * t);
-        Y3 += 0.00000000785 * Math.cos(4.39719518884 + 2957.9597119601 * t);
-        Y3 += 0.00000000624 * Math.cos(2.25363881101 + 23384.5308043821 * t);
-        Y3 += 0.00000000586 * Math.cos(3.96432388242 + 1059.6257476727 * t);
-        Y3 += 0.00000000721 * Math.cos(5.21679562282 + 4535.3032544079 * t);
-        Y3 += 0.00000000636 * Math.cos(2.60828365653 + 5088.8726572503 * t);
-        Y3 += 0.00000000615 * Math.cos(0.76601087488 + 2146.4092339587 * t);
-        Y3 += 0.00000000474 * Math.cos(3.79995013670 + 2942.7072407751 * t);
-        Y3 += 0.00000000604 * Math.cos(3.34001877693 + 1592.8398311163 * t);
-        Y3 += 0.00000000450 * Math.cos(0.32237574079 + 3333.7426971825 * t);
-        Y3 += 0.00000000486 * Math.cos(1.35165895173 + 3739.0052475915 * t);
-        Y3 += 0.00000000417 * Math.cos(5.75416173350 + 3347.96979118411 * t);
-        Y3 += 0.00000000400 * Math.cos(5.17092240158 + 4400.2381743725 * t);
-        Y3 += 0.00000000374 * Math.cos(1.81231274497 + 6836.8890703173 * t);
-        Y3 += 0.00000000488 * Math.cos(3.09412842261 + 6924.1972748571 * t);
-        Y3 += 0.00000000399 * Math.cos(0.86698142534 + 6490.0204047715 * t);
-        Y3 += 0.00000000356 * Math.cos(5.90189075488 + 6127.8992680407 * t);
-        Y3 += 0.00000000362 * Math.cos(0.57575435741 + 5622.08674069391 * t);
-        Y3 += 0.00000000295 * Math.cos(2.11031657729 + 7079.61767429131 * t);
-        Y3 += 0.00000000356 * Math.cos(4.85741827730 + 9866.66069814871 * t);
-        Y3 += 0.00000000340 * Math.cos(0.71669809587 + 7477.7666776995 * t);
-        Y3 += 0.00000000239 * Math.cos(3.60818728854 + 6438.7400669091 * t);
-        Y3 += 0.00000000214 * Math.cos(5.66889246190 + 6682.44899195131 * t);
-        Y3 += 0.00000000184 * Math.cos(5.24213240799 + 13362.2058893157 * t);
-        Y3 += 0.00000000176 * Math.cos(2.39234978630 + 5331.6012612243 * t);
-        Y3 += 0.00000000215 * Math.cos(1.01330961394 + 5729.7502646325 * t);
-        Y3 += 0.00000000159 * Math.cos(3.74822824989 + 4933.4522578161 * t);
-        Y3 += 0.00000000148 * Math.cos(4.78372101689 + 6298.57213865991 * t);
-        Y3 += 0.00000000154 * Math.cos(4.07120648646 + 6677.9455525341 * t);
-        Y3 += 0.00000000153 * Math.cos(5.60790410015 + 7875.91568110771 * t);
-        Y3 += 0.00000000157 * Math.cos(4.45933297186 + 796.5418242999 * t);
-        Y3 += 0.00000000172 * Math.cos(2.61819596070 + 13366.21664263171 * t);
-        Y3 += 0.00000000143 * Math.cos(0.82498614720 + 7235.0380737255 * t);
-        Y3 += 0.00000000155 * Math.cos(5.68177791947 + 7740.8506010723 * t);
-        Y3 += 0.00000000116 * Math.cos(3.07839128709 + 1194.6908277081 * t);
-        Y3 += 0.00000000106 * Math.cos(1.43807829522 + 155.6642169177 * t);
-        Y3 += 0.00000000089 * Math.cos(5.59709996368 + 3343.8917275653 * t);
-        Y3 += 0.00000000100 * Math.cos(1.30610304994 + 9830.6328314713 * t);
-        Y3 += 0.00000000108 * Math.cos(2.60638791189 + 10420.23010099111 * t);
-        Y3 += 0.00000000084 * Math.cos(1.11366948198 + 10818.3791043993 * t);
-        Y3 += 0.00000000098 * Math.cos(2.60446363513 + 26725.1432310819 * t);
-        Y3 += 0.00000000076 * Math.cos(5.59159654622 + 4929.92913946711 * t);
-        Y3 += 0.00000000074 * Math.cos(5.71538520874 + 7633.1870771337 * t);
-        Y3 += 0.00000000086 * Math.cos(3.58543209453 + 1589.3167127673 * t);
-        Y3 += 0.00000000072 * Math.cos(4.63326318414 + 5885.1706640667 * t);
-        Y3 += 0.00000000062 * Math.cos(0.11881168827 + 5487.0216606585 * t);
-        Y3 += 0.00000000065 * Math.cos(3.44980702826 + 10264.80970155691 * t);
-        Y3 += 0.00000000062 * Math.cos(1.52309575501 + 7211.1596359777 * t);
-        Y3 += 0.00000000082 * Math.cos(6.15563051504 + 6688.5822178839 * t);
-        Y3 += 0.00000000057 * Math.cos(3.09476278894 + 12833.00255918811 * t);
-        Y3 += 0.00000000057 * Math.cos(6.25611563425 + 9468.51169474051 * t);
-        Y3 += 0.00000000056 * Math.cos(3.56059573252 + 6681.45141723091 * t);
-        Y3 += 0.00000000056 * Math.cos(5.59136715053 + 6681.4859245353 * t);
-        Y3 += 0.00000000069 * Math.cos(4.15252094724 + 796.0541893329 * t);
-        Y3 += 0.00000000065 * Math.cos(0.34610968118 + 3870.54720927791 * t);
-        Y3 += 0.00000000067 * Math.cos(2.17750046913 + 9492.3901324883 * t);
-        Y3 += 0.00000000051 * Math.cos(4.21953229457 + 8274.0646845159 * t);
-        Y3 += 0.00000000048 * Math.cos(5.45844802909 + 397.9051859247 * t);
-        Y3 += 0.00000000050 * Math.cos(5.21362719324 + 13207.27312484851 * t);
-        Y3 += 0.00000000043 * Math.cos(3.92075403663 + 426.8420083595 * t);
-        Y3 += 0.00000000044 * Math.cos(4.30828712757 + 8031.3360805419 * t);
-        Y3 += 0.00000000039 * Math.cos(2.78024704625 + 1194.2031927411 * t);
-        Y3 += 0.00000000043 * Math.cos(6.06948054666 + 10023.06141865111 * t);
-        Y3 += 0.00000000044 * Math.cos(5.65948692732 + 5092.3957755993 * t);
-        Y3 += 0.00000000037 * Math.cos(4.89772055096 + 8827.6340873583 * t);
-        Y3 += 0.00000000042 * Math.cos(0.13693241822 + 10022.0983512351 * t);
-        Y3 += 0.00000000043 * Math.cos(1.88027614352 + 3184.9482097821 * t);
-        Y3 += 0.00000000033 * Math.cos(3.97855919031 + 1349.62359217529 * t);
-        Y3 += 0.00000000035 * Math.cos(1.38364575820 + 9070.3626913323 * t);
-        Y3 += 0.00000000036 * Math.cos(6.07274445742 + 11081.46302777211 * t);
-        Y3 += 0.00000000044 * Math.cos(4.83413643654 + 12303.3115940935 * t);
-        Y3 += 0.00000000033 * Math.cos(5.60078768464 + 15643.9240207933 * t);
-        Y3 += 0.00000000042 * Math.cos(4.38948412695 + 10022.06384393071 * t);
-        Y3 += 0.00000000032 * Math.cos(4.09360307102 + 10018.5579792339 * t);
-        Y3 += 0.00000000029 * Math.cos(3.12031392752 + 3495.78900865049 * t);
-        Y3 += 0.00000000032 * Math.cos(0.83223666105 + 6680.4883498149 * t);
-        Y3 += 0.00000000031 * Math.cos(0.33659543405 + 7.3573644843 * t);
-        Y3 += 0.00000000036 * Math.cos(1.89292951517 + 7064.3652031063 * t);
-        Y3 += 0.00000000026 * Math.cos(5.98285354447 + 11216.5281078075 * t);
-        Y3 += 0.00000000035 * Math.cos(6.27114625059 + 3336.8454908673 * t);
-        Y3 += 0.00000000025 * Math.cos(1.46525178422 + 10575.6505004253 * t);
-        Y3 += 0.00000000033 * Math.cos(2.79365879085 + 8672.21368792411 * t);
-        Y3 += 0.00000000026 * Math.cos(1.28604268140 + 1592.3521961493 * t);
-        Y3 += 0.00000000027 * Math.cos(5.55280390266 + 16702.81831601549 * t);
-        Y3 += 0.00000000025 * Math.cos(3.00868456049 + 13760.8425276909 * t);
-        Y3 += 0.00000000027 * Math.cos(4.66856303516 + 191.2044486281 * t);
-        Y3 += 0.00000000026 * Math.cos(1.97438831111 + 6894.76776632111 * t);
-        Y3 += 0.00000000023 * Math.cos(4.28067595534 + 2281.4743139941 * t);
-        Y3 += 0.00000000027 * Math.cos(2.94695290371 + 16706.8290693315 * t);
-        Y3 += 0.00000000026 * Math.cos(3.96428963673 + 8433.00820229911 * t);
-        Y3 += 0.00000000028 * Math.cos(1.79193447711 + 9623.9320941747 * t);
-        Y3 += 0.00000000027 * Math.cos(1.13776019664 + 2145.92159899169 * t);
-        Y3 += 0.00000000024 * Math.cos(5.97021720723 + 8270.5415661669 * t);
-        Y3 += 0.00000000026 * Math.cos(2.65229643774 + 1747.7725955835 * t);
-        Y3 += 0.00000000022 * Math.cos(5.61692474893 + 3767.4544350593 * t);
-        Y3 += 0.00000000025 * Math.cos(2.25020572476 + 2811.1652790887 * t);
-        Y3 += 0.00000000020 * Math.cos(0.07098508189 + 3554.1553396213 * t);
-        Y3 += 0.00000000019 * Math.cos(2.88996373259 + 3127.5571487453 * t);
-        Y3 += 0.00000000022 * Math.cos(0.46069753881 + 553.32558535889 * t);
-        Y3 += 0.00000000023 * Math.cos(5.33595219972 + 951.4745887671 * t);
-        Y3 += 0.00000000019 * Math.cos(0.10196223786 + 553.8132203259 * t);
-        Y3 += 0.00000000026 * Math.cos(4.87516844857 + 8962.6991673937 * t);
-        Y3 += 0.00000000020 * Math.cos(5.14250346119 + 9639.18456535971 * t);
-        Y3 += 0.00000000019 * Math.cos(6.00158821783 + 2810.6776441217 * t);
-        Y3 += 0.00000000021 * Math.cos(4.93189731089 + 951.9622237341 * t);
-        Y3 += 0.00000000017 * Math.cos(1.68247778914 + 13171.2452581711 * t);
-        Y3 += 0.00000000022 * Math.cos(5.95572380889 + 3738.51761262449 * t);
-        Y3 += 0.00000000019 * Math.cos(1.64647085293 + 6681.40136058031 * t);
-        Y3 += 0.00000000022 * Math.cos(0.08200412214 + 10973.7995038335 * t);
-        Y3 += 0.00000000016 * Math.cos(4.51745505904 + 4136.66661603269 * t);
-        Y3 += 0.00000000019 * Math.cos(1.23797436286 + 6681.5359811859 * t);
-        Y3 += 0.00000000021 * Math.cos(1.35776125147 + 1748.2602305505 * t);
-        Y3 += 0.00000000017 * Math.cos(1.00152701220 + 382.6527147397 * t);
-        Y3 += 0.00000000020 * Math.cos(1.75396056414 + 2280.98667902709 * t);
-        Y3 += 0.00000000022 * Math.cos(3.17699744058 + 1350.1112271423 * t);
-        Y3 += 0.00000000016 * Math.cos(5.34701571085 + 6254.8704800071 * t);
-        Y3 += 0.00000000016 * Math.cos(2.36582548750 + 10551.7720626775 * t);
-        Y3 += 0.00000000015 * Math.cos(1.53277475796 + 10177.5014970171 * t);
-        Y3 += 0.00000000014 * Math.cos(3.52302167993 + 2914.2580533073 * t);
-        Y3 += 0.00000000014 * Math.cos(6.07892689352 + 5459.6201045617 * t);
-        Y3 += 0.00000000019 * Math.cos(6.17607723197 + 1990.5011995575 * t);
-        Y3 += 0.00000000014 * Math.cos(0.25864758853 + 10029.1946445837 * t);
-        Y3 += 0.00000000013 * Math.cos(2.47039869218 + 5614.9731936931 * t);
-        Y3 += 0.00000000015 * Math.cos(1.09462751364 + 6674.3551238823 * t);
-        Y3 += 0.00000000013 * Math.cos(6.22971843612 + 1066.7392946735 * t);
-        Y3 += 0.00000000016 * Math.cos(2.66082127133 + 640.1411037975 * t);
-        Y3 += 0.00000000013 * Math.cos(5.23063056874 + 5621.5991057269 * t);
-        Y3 += 0.00000000013 * Math.cos(6.19082803643 + 242.97242145751 * t);
-        Y3 += 0.00000000014 * Math.cos(4.95970323400 + 12310.42514109431 * t);
-        Y3 += 0.00000000013 * Math.cos(5.13330302990 + 191.6920835951 * t);
-        Y3 += 0.00000000011 * Math.cos(4.76410993683 + 2388.6502029657 * t);
-        Y3 += 0.00000000012 * Math.cos(4.69348384132 + 3148.9203431047 * t);
-        Y3 += 0.00000000013 * Math.cos(3.86741890756 + 2119.00767786191 * t);
-        Y3 += 0.00000000011 * Math.cos(0.48497464502 + 3583.0972131903 * t);
-        Y3 += 0.00000000011 * Math.cos(3.56912327150 + 3340.38586286849 * t);
-        Y3 += 0.00000000010 * Math.cos(3.06794437904 + 4534.81561944089 * t);
-        Y3 += 0.00000000011 * Math.cos(1.53890583251 + 3340.3513555641 * t);
-        Y3 += 0.00000000010 * Math.cos(3.31773666314 + 8429.4850839501 * t);
-        Y3 += 0.00000000010 * Math.cos(1.74465995773 + 10014.9675505821 * t);
-        Y3 += 0.00000000009 * Math.cos(2.31043926403 + 3320.50092478451 * t);
-        Y3 += 0.00000000011 * Math.cos(6.23117374482 + 8962.2115324267 * t);
-        Y3 += 0.00000000009 * Math.cos(0.67622157817 + 3361.2115635821 * t);
-        Y3 += 0.00000000009 * Math.cos(2.53457737250 + 12296.1980470927 * t);
-        Y3 += 0.00000000010 * Math.cos(3.49125725908 + 16173.6149858879 * t);
-        Y3 += 0.00000000009 * Math.cos(0.45307177363 + 1052.51220067191 * t);
-        Y3 += 0.00000000009 * Math.cos(5.25143266877 + 5614.48555872609 * t);
-        Y3 += 0.00000000010 * Math.cos(0.42320665245 + 529.9347825781 * t);
-        Y3 += 0.00000000008 * Math.cos(1.34588517648 + 3893.93801205869 * t);
-        Y3 += 0.00000000009 * Math.cos(4.25124379767 + 3325.6037729983 * t);
-        Y3 += 0.00000000008 * Math.cos(3.39718396453 + 2786.7992063739 * t);
-        Y3 += 0.00000000009 * Math.cos(5.01886213751 + 3356.10871536831 * t);
-        Y3 += 0.00000000011 * Math.cos(0.14412148132 + 242.4847864905 * t);
-        Y3 += 0.00000000009 * Math.cos(6.13794980664 + 1751.7833488995 * t);
-        Y3 += 0.00000000007 * Math.cos(1.88989832363 + 2957.4720769931 * t);
-        Y3 += 0.00000000008 * Math.cos(6.15723205798 + 4292.0870154669 * t);
-        Y3 += 0.00000000007 * Math.cos(1.45796130115 + 14158.9915310991 * t);
-        Y3 += 0.00000000010 * Math.cos(5.32959721544 + 529.44714761109 * t);
-        Y3 += 0.00000000010 * Math.cos(0.03923636410 + 12302.8239591265 * t);
-        Y3 += 0.00000000009 * Math.cos(5.97902157224 + 6684.5041542651 * t);
-        Y3 += 0.00000000008 * Math.cos(0.50370755190 + 2273.8731320263 * t);
-        return Y3 * t * t * t;
-    }
-
-
-    static double Y4(double t) // 81 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000174339 * Math.cos(2.93381852792 + 3340.8562441833 * t);
-        Y4 += 0.00000065332 * Math.cos(6.16516435716 + 0.2438174835 * t);
-        Y4 += 0.00000021612 * Math.cos(3.90497783530 + 6681.46867088311 * t);
-        Y4 += 0.00000012491 * Math.cos(5.22926339778 + 10022.0810975829 * t);
-        Y4 += 0.00000005152 * Math.cos(5.82623510484 + 13362.6935242827 * t);
-        Y4 += 0.00000002432 * Math.cos(3.46296610123 + 3496.2766436175 * t);
-        Y4 += 0.00000002407 * Math.cos(2.61988971710 + 3185.43584474911 * t);
-        Y4 += 0.00000001485 * Math.cos(6.26563422445 + 16703.3059509825 * t);
-        Y4 += 0.00000001453 * Math.cos(2.74672685906 + 3340.36860921629 * t);
-        Y4 += 0.00000000592 * Math.cos(1.22137870027 + 3583.5848481573 * t);
-        Y4 += 0.00000000596 * Math.cos(4.86866829338 + 3098.1276402093 * t);
-        Y4 += 0.00000000649 * Math.cos(3.10993649847 + 6680.98103591609 * t);
-        Y4 += 0.00000000380 * Math.cos(2.98520597318 + 6526.04827144891 * t);
-        Y4 += 0.00000000351 * Math.cos(0.37438431534 + 20043.9183776823 * t);
-        Y4 += 0.00000000281 * Math.cos(5.74023871163 + 3344.3793625323 * t);
-        Y4 += 0.00000000275 * Math.cos(5.82358825194 + 3337.33312583431 * t);
-        Y4 += 0.00000000287 * Math.cos(2.04842024047 + 3894.4256470257 * t);
-        Y4 += 0.00000000285 * Math.cos(4.01760045509 + 2787.2868413409 * t);
-        Y4 += 0.00000000151 * Math.cos(0.21831233003 + 6684.9917892321 * t);
-        Y4 += 0.00000000128 * Math.cos(3.67710811233 + 6836.8890703173 * t);
-        Y4 += 0.00000000111 * Math.cos(3.42090983567 + 10021.5934626159 * t);
-        Y4 += 0.00000000088 * Math.cos(1.58466318522 + 6924.1972748571 * t);
-        Y4 += 0.00000000071 * Math.cos(0.74300955382 + 23384.5308043821 * t);
-        Y4 += 0.00000000055 * Math.cos(0.69772957456 + 10025.6042159319 * t);
-        Y4 += 0.00000000048 * Math.cos(4.38512823437 + 6127.8992680407 * t);
-        Y4 += 0.00000000063 * Math.cos(3.34688291780 + 9866.66069814871 * t);
-        Y4 += 0.00000000034 * Math.cos(5.06262173016 + 6438.7400669091 * t);
-        Y4 += 0.00000000033 * Math.cos(1.70059643142 + 1059.6257476727 * t);
-        Y4 += 0.00000000019 * Math.cos(3.71883012543 + 13362.2058893157 * t);
-        Y4 += 0.00000000018 * Math.cos(5.50021563801 + 6490.0204047715 * t);
-        Y4 += 0.00000000016 * Math.cos(3.64198835610 + 3149.4079780717 * t);
-        Y4 += 0.00000000016 * Math.cos(4.24409660230 + 2942.7072407751 * t);
-        Y4 += 0.00000000015 * Math.cos(5.58219475947 + 3532.3045102949 * t);
-        Y4 += 0.00000000015 * Math.cos(5.77023095211 + 2544.5582373669 * t);
-        Y4 += 0.00000000014 * Math.cos(1.18570988628 + 5622.08674069391 * t);
-        Y4 += 0.00000000014 * Math.cos(4.91332403738 + 3739.0052475915 * t);
-        Y4 += 0.00000000013 * Math.cos(3.26498430793 + 4400.2381743725 * t);
-        Y4 += 0.00000000013 * Math.cos(3.45392588632 + 4137.1542509997 * t);
-        Y4 += 0.00000000012 * Math.cos(1.58704936612 + 1194.6908277081 * t);
-        Y4 += 0.00000000012 * Math.cos(4.09135686171 + 6682.44899195131 * t);
-        Y4 += 0.00000000015 * Math.cos(5.36555803467 + 7477.7666776995 * t);
-        Y4 += 0.00000000011 * Math.cos(0.34983006468 + 7079.61767429131 * t);
-        Y4 += 0.00000000015 * Math.cos(3.69953477421 + 529.9347825781 * t);
-        Y4 += 0.00000000013 * Math.cos(4.15046759496 + 10177.5014970171 * t);
-        Y4 += 0.00000000014 * Math.cos(2.27580303219 + 7235.0380737255 * t);
-        Y4 += 0.00000000011 * Math.cos(1.94853565727 + 10264.80970155691 * t);
-        Y4 += 0.00000000013 * Math.cos(1.09206345437 + 13366.21664263171 * t);
-        Y4 += 0.00000000010 * Math.cos(2.95515329817 + 796.5418242999 * t);
-        Y4 += 0.00000000010 * Math.cos(0.79995918783 + 5331.6012612243 * t);
-        Y4 += 0.00000000012 * Math.cos(5.75066247454 + 5729.7502646325 * t);
-        Y4 += 0.00000000011 * Math.cos(1.07729854427 + 26725.1432310819 * t);
-        Y4 += 0.00000000008 * Math.cos(3.24165666451 + 6298.57213865991 * t);
-        Y4 += 0.00000000008 * Math.cos(2.38038667642 + 3340.8734978355 * t);
-        Y4 += 0.00000000008 * Math.cos(0.34961504493 + 3340.83899053111 * t);
-        Y4 += 0.00000000007 * Math.cos(5.14772021296 + 1990.9888345245 * t);
-        Y4 += 0.00000000009 * Math.cos(5.07995147120 + 2280.98667902709 * t);
-        Y4 += 0.00000000007 * Math.cos(4.03741515609 + 7875.91568110771 * t);
-        Y4 += 0.00000000008 * Math.cos(2.02200735771 + 4933.4522578161 * t);
-        Y4 += 0.00000000007 * Math.cos(3.75129319164 + 2389.1378379327 * t);
-        Y4 += 0.00000000009 * Math.cos(0.25417853710 + 1592.8398311163 * t);
-        Y4 += 0.00000000007 * Math.cos(0.82767073807 + 3339.8759231151 * t);
-        Y4 += 0.00000000007 * Math.cos(2.14189652179 + 3341.83656525151 * t);
-        Y4 += 0.00000000007 * Math.cos(4.15524185925 + 3343.8917275653 * t);
-        Y4 += 0.00000000006 * Math.cos(5.26975113166 + 6151.7777057885 * t);
-        Y4 += 0.00000000007 * Math.cos(0.39533433606 + 3184.9482097821 * t);
-        Y4 += 0.00000000007 * Math.cos(2.62352530661 + 155.17658195069 * t);
-        Y4 += 0.00000000006 * Math.cos(2.08770398228 + 1589.3167127673 * t);
-        Y4 += 0.00000000005 * Math.cos(1.31171511465 + 5487.0216606585 * t);
-        Y4 += 0.00000000005 * Math.cos(6.18023058032 + 5885.1706640667 * t);
-        Y4 += 0.00000000005 * Math.cos(5.51400581371 + 4292.5746504339 * t);
-        Y4 += 0.00000000006 * Math.cos(0.88154703323 + 2146.4092339587 * t);
-        Y4 += 0.00000000005 * Math.cos(4.11249699702 + 4690.7236538421 * t);
-        Y4 += 0.00000000005 * Math.cos(1.23189383847 + 2957.9597119601 * t);
-        Y4 += 0.00000000004 * Math.cos(3.71246158922 + 13207.27312484851 * t);
-        Y4 += 0.00000000005 * Math.cos(2.07014421381 + 4535.3032544079 * t);
-        Y4 += 0.00000000004 * Math.cos(1.74392645390 + 3723.7527764065 * t);
-        Y4 += 0.00000000005 * Math.cos(2.71222704178 + 5088.8726572503 * t);
-        Y4 += 0.00000000004 * Math.cos(4.76678794761 + 9468.51169474051 * t);
-        Y4 += 0.00000000004 * Math.cos(4.22334394857 + 398.3928208917 * t);
-        Y4 += 0.00000000003 * Math.cos(4.44413134438 + 3870.54720927791 * t);
-        Y4 += 0.00000000003 * Math.cos(4.24190972006 + 7633.1870771337 * t);
-        return Y4 * t * t * t * t;
-    }
-
-
-    static double Y5(double t) // 26 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000002822 * Math.cos(0.96657189081 + 0.2438174835 * t);
-        Y5 += 0.00000001310 * Math.cos(3.05377797611 + 3340.8562441833 * t);
-        Y5 += 0.00000000954 * Math.cos(1.98829739864 + 6681.46867088311 * t);
-        Y5 += 0.00000000429 * Math.cos(3.31617723817 + 10022.0810975829 * t);
-        Y5 += 0.00000000275 * Math.cos(4.95749653129 + 3496.2766436175 * t);
-        Y5 += 0.00000000272 * Math.cos(1.09357865500 + 3185.43584474911 * t);
-        Y5 += 0.00000000241 * Math.cos(4.15990840451 + 13362.6935242827 * t);
-        Y5 += 0.00000000262 * Math.cos(1.53308484382 + 3340.36860921629 * t);
-        Y5 += 0.00000000092 * Math.cos(4.67897944940 + 16703.3059509825 * t);
-        Y5 += 0.00000000076 * Math.cos(5.98548328683 + 3583.5848481573 * t);
-        Y5 += 0.00000000077 * Math.cos(0.08639182463 + 3098.1276402093 * t);
-        Y5 += 0.00000000049 * Math.cos(1.46758792224 + 6526.04827144891 * t);
-        Y5 += 0.00000000032 * Math.cos(1.68955173389 + 6680.98103591609 * t);
-        Y5 += 0.00000000026 * Math.cos(5.10726173875 + 20043.9183776823 * t);
-        Y5 += 0.00000000027 * Math.cos(3.55496481176 + 3894.4256470257 * t);
-        Y5 += 0.00000000026 * Math.cos(2.47271477475 + 2787.2868413409 * t);
-        Y5 += 0.00000000013 * Math.cos(5.14425957427 + 6836.8890703173 * t);
-        Y5 += 0.00000000013 * Math.cos(0.06925191240 + 6924.1972748571 * t);
-        Y5 += 0.00000000006 * Math.cos(1.93462610905 + 10021.5934626159 * t);
-        Y5 += 0.00000000007 * Math.cos(6.11562143175 + 3337.33312583431 * t);
-        Y5 += 0.00000000007 * Math.cos(3.04667075048 + 3344.3793625323 * t);
-        Y5 += 0.00000000005 * Math.cos(2.85975463034 + 6127.8992680407 * t);
-        Y5 += 0.00000000007 * Math.cos(1.82394907196 + 9866.66069814871 * t);
-        Y5 += 0.00000000006 * Math.cos(4.75654379617 + 6684.9917892321 * t);
-        Y5 += 0.00000000005 * Math.cos(5.49442547736 + 23384.5308043821 * t);
-        Y5 += 0.00000000004 * Math.cos(0.28345481344 + 6438.7400669091 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 355 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.04901207220 * Math.cos(3.76712324286 + 3340.6124266998 * t);
-        Z0 += 0.00660669541;
-        Z0 += 0.00228333904 * Math.cos(4.10544022266 + 6681.2248533996 * t);
-        Z0 += 0.00015958402 * Math.cos(4.44367058261 + 10021.8372800994 * t);
-        Z0 += 0.00001321976 * Math.cos(4.78186604114 + 13362.4497067992 * t);
-        Z0 += 0.00000679660 * Math.cos(5.65109977813 + 3337.0893083508 * t);
-        Z0 += 0.00000679219 * Math.cos(5.02527030899 + 3344.1355450488 * t);
-        Z0 += 0.00000531140 * Math.cos(3.86748390045 + 2281.2304965106 * t);
-        Z0 += 0.00000374993 * Math.cos(4.33338216773 + 529.6909650946 * t);
-        Z0 += 0.00000325315 * Math.cos(2.24562508217 + 1059.3819301892 * t);
-        Z0 += 0.00000218762 * Math.cos(1.18094849702 + 3340.5951730476 * t);
-        Z0 += 0.00000218761 * Math.cos(3.21172012852 + 3340.629680352 * t);
-        Z0 += 0.00000152333 * Math.cos(6.08109566130 + 6151.533888305 * t);
-        Z0 += 0.00000146631 * Math.cos(5.09927022855 + 398.1490034082 * t);
-        Z0 += 0.00000152443 * Math.cos(2.13254535850 + 5621.8429232104 * t);
-        Z0 += 0.00000120328 * Math.cos(5.12010663983 + 16703.062133499 * t);
-        Z0 += 0.00000126016 * Math.cos(3.67803475473 + 796.2980068164 * t);
-        Z0 += 0.00000116766 * Math.cos(4.86913583010 + 2942.4634232916 * t);
-        Z0 += 0.00000112925 * Math.cos(5.76548397681 + 3738.761430108 * t);
-        Z0 += 0.00000074290 * Math.cos(2.43508234938 + 8962.4553499102 * t);
-        Z0 += 0.00000071989 * Math.cos(5.54217679275 + 3340.545116397 * t);
-        Z0 += 0.00000068644 * Math.cos(5.54532471548 + 6283.0758499914 * t);
-        Z0 += 0.00000071987 * Math.cos(5.13368040597 + 3340.6797370026 * t);
-        Z0 += 0.00000063219 * Math.cos(5.36590967098 + 6684.7479717486 * t);
-        Z0 += 0.00000075858 * Math.cos(4.51645136094 + 3149.1641605882 * t);
-        Z0 += 0.00000063502 * Math.cos(4.16748385740 + 1751.539531416 * t);
-        Z0 += 0.00000063828 * Math.cos(5.98786823499 + 6677.7017350506 * t);
-        Z0 += 0.00000059355 * Math.cos(0.72879549961 + 5884.9268465832 * t);
-        Z0 += 0.00000050332 * Math.cos(1.96033823263 + 2810.9214616052 * t);
-        Z0 += 0.00000051292 * Math.cos(2.64769056433 + 2914.0142358238 * t);
-        Z0 += 0.00000044615 * Math.cos(5.88956380171 + 3532.0606928114 * t);
-        Z0 += 0.00000045001 * Math.cos(2.29942389620 + 1589.0728952838 * t);
-        Z0 += 0.00000045526 * Math.cos(2.27415776311 + 1194.4470102246 * t);
-        Z0 += 0.00000045098 * Math.cos(4.08200115074 + 4136.9104335162 * t);
-        Z0 += 0.00000033148 * Math.cos(2.01609063016 + 5486.777843175 * t);
-        Z0 += 0.00000029003 * Math.cos(2.64937555759 + 426.598190876 * t);
-        Z0 += 0.00000033968 * Math.cos(0.46851841759 + 2544.3144198834 * t);
-        Z0 += 0.00000027697 * Math.cos(5.54319865094 + 191.4482661116 * t);
-        Z0 += 0.00000030473 * Math.cos(4.98782051819 + 3870.3033917944 * t);
-        Z0 += 0.00000022262 * Math.cos(0.19101027284 + 9492.1463150048 * t);
-        Z0 += 0.00000021566 * Math.cos(2.45059201892 + 3333.498879699 * t);
-        Z0 += 0.00000019900 * Math.cos(4.78493597626 + 213.299095438 * t);
-        Z0 += 0.00000019445 * Math.cos(3.36733718353 + 5088.6288397668 * t);
-        Z0 += 0.00000022415 * Math.cos(2.80792353370 + 3496.032826134 * t);
-        Z0 += 0.00000019109 * Math.cos(0.86825937304 + 1592.5960136328 * t);
-        Z0 += 0.00000024101 * Math.cos(2.57371991774 + 4399.994356889 * t);
-        Z0 += 0.00000020382 * Math.cos(3.55004736979 + 6681.2421070518 * t);
-        Z0 += 0.00000019188 * Math.cos(1.51640815942 + 3185.1920272656 * t);
-        Z0 += 0.00000020382 * Math.cos(1.51927573830 + 6681.2075997474 * t);
-        Z0 += 0.00000013488 * Math.cos(2.86475891587 + 3341.592747768 * t);
-        Z0 += 0.00000013492 * Math.cos(1.52791184830 + 3339.6321056316 * t);
-        Z0 += 0.00000011777 * Math.cos(4.79772279974 + 3553.9115221378 * t);
-        Z0 += 0.00000012741 * Math.cos(6.05559229749 + 7079.3738568078 * t);
-        Z0 += 0.00000011907 * Math.cos(1.65033513222 + 6254.6266625236 * t);
-        Z0 += 0.00000011511 * Math.cos(2.75835305381 + 12303.06777661 * t);
-        Z0 += 0.00000011629 * Math.cos(5.45832237690 + 20043.6745601988 * t);
-        Z0 += 0.00000011780 * Math.cos(4.75307421274 + 4690.4798363586 * t);
-        Z0 += 0.00000010587 * Math.cos(6.14125670809 + 7.1135470008 * t);
-        Z0 += 0.00000008746 * Math.cos(1.07533372055 + 9225.539273283 * t);
-        Z0 += 0.00000009300 * Math.cos(5.74426412364 + 1990.745017041 * t);
-        Z0 += 0.00000009010 * Math.cos(5.91031650213 + 9623.6882766912 * t);
-        Z0 += 0.00000009099 * Math.cos(4.14734627288 + 3127.3133312618 * t);
-        Z0 += 0.00000008399 * Math.cos(2.65942772730 + 4535.0594369244 * t);
-        Z0 += 0.00000009575 * Math.cos(0.26669816734 + 10213.285546211 * t);
-        Z0 += 0.00000011208 * Math.cos(2.64763421097 + 8432.7643848156 * t);
-        Z0 += 0.00000008425 * Math.cos(5.67806346712 + 6467.9257579616 * t);
-        Z0 += 0.00000007879 * Math.cos(6.16301318418 + 4292.3308329504 * t);
-        Z0 += 0.00000006986 * Math.cos(1.31599425886 + 3894.1818295422 * t);
-        Z0 += 0.00000007013 * Math.cos(4.83160093113 + 6489.776587288 * t);
-        Z0 += 0.00000006707 * Math.cos(5.47201048198 + 6681.2921637024 * t);
-        Z0 += 0.00000008732 * Math.cos(5.94456391651 + 5092.1519581158 * t);
-        Z0 += 0.00000006427 * Math.cos(6.10941025846 + 4562.4609930212 * t);
-        Z0 += 0.00000008234 * Math.cos(3.68630710748 + 2700.7151403858 * t);
-        Z0 += 0.00000007214 * Math.cos(1.11647593098 + 3319.8370312074 * t);
-        Z0 += 0.00000006128 * Math.cos(4.51741845562 + 1221.8485663214 * t);
-        Z0 += 0.00000006627 * Math.cos(5.70488581385 + 10025.3603984484 * t);
-        Z0 += 0.00000006712 * Math.cos(0.04223488375 + 10018.3141617504 * t);
-        Z0 += 0.00000007157 * Math.cos(3.27593626835 + 3361.3878221922 * t);
-        Z0 += 0.00000005667 * Math.cos(1.84572324920 + 2957.7158944766 * t);
-        Z0 += 0.00000006707 * Math.cos(5.88050686882 + 6681.1575430968 * t);
-        Z0 += 0.00000004916 * Math.cos(2.93046960145 + 2787.0430238574 * t);
-        Z0 += 0.00000004722 * Math.cos(2.41041908083 + 3344.2028553516 * t);
-        Z0 += 0.00000004650 * Math.cos(1.71276888306 + 639.897286314 * t);
-        Z0 += 0.00000004742 * Math.cos(1.97920373919 + 3337.021998048 * t);
-        Z0 += 0.00000004597 * Math.cos(4.41002877977 + 7477.522860216 * t);
-        Z0 += 0.00000005433 * Math.cos(4.33760555117 + 2388.8940204492 * t);
-        Z0 += 0.00000005641 * Math.cos(2.43527331240 + 2118.7638603784 * t);
-        Z0 += 0.00000004363 * Math.cos(2.24320799714 + 11773.3768115154 * t);
-        Z0 += 0.00000004127 * Math.cos(2.04411881734 + 2146.1654164752 * t);
-        Z0 += 0.00000003613 * Math.cos(3.61081984797 + 8429.2412664666 * t);
-        Z0 += 0.00000003478 * Math.cos(2.64660968975 + 4929.6853219836 * t);
-        Z0 += 0.00000003714 * Math.cos(1.76418965622 + 382.8965322232 * t);
-        Z0 += 0.00000003331 * Math.cos(6.17753431621 + 7210.9158184942 * t);
-        Z0 += 0.00000003580 * Math.cos(3.90470994536 + 7903.073419721 * t);
-        Z0 += 0.00000003111 * Math.cos(2.03406809335 + 155.4203994342 * t);
-        Z0 += 0.00000003351 * Math.cos(0.47359753009 + 3475.6775067352 * t);
-        Z0 += 0.00000003025 * Math.cos(1.91083270977 + 9595.2390892234 * t);
-        Z0 += 0.00000003493 * Math.cos(2.25666784516 + 3723.508958923 * t);
-        Z0 += 0.00000003509 * Math.cos(3.91758478184 + 3205.5473466644 * t);
-        Z0 += 0.00000003007 * Math.cos(0.81247341820 + 2274.1169495098 * t);
-        Z0 += 0.00000002982 * Math.cos(3.68257004005 + 2288.3440435114 * t);
-        Z0 += 0.00000002567 * Math.cos(4.96092533051 + 8031.0922630584 * t);
-        Z0 += 0.00000002649 * Math.cos(2.98742483865 + 3767.2106175758 * t);
-        Z0 += 0.00000002322 * Math.cos(1.23249592342 + 4933.2084403326 * t);
-        Z0 += 0.00000002733 * Math.cos(0.51395284395 + 12832.7587417046 * t);
-        Z0 += 0.00000002136 * Math.cos(3.88842223350 + 10021.8545337516 * t);
-        Z0 += 0.00000002136 * Math.cos(1.85765060200 + 10021.8200264472 * t);
-        Z0 += 0.00000002772 * Math.cos(2.43968968772 + 8827.3902698748 * t);
-        Z0 += 0.00000002162 * Math.cos(3.01828376513 + 6041.3275670856 * t);
-        Z0 += 0.00000002091 * Math.cos(3.80489059877 + 6872.6731195112 * t);
-        Z0 += 0.00000002233 * Math.cos(2.94758000961 + 7740.6067835888 * t);
-        Z0 += 0.00000002614 * Math.cos(4.45694073527 + 6674.1113063988 * t);
-        Z0 += 0.00000001930 * Math.cos(5.30759100687 + 1066.49547719 * t);
-        Z0 += 0.00000002513 * Math.cos(0.10458597053 + 3583.3410306738 * t);
-        Z0 += 0.00000002104 * Math.cos(2.45809927011 + 1052.2683831884 * t);
-        Z0 += 0.00000001861 * Math.cos(4.13522134185 + 1349.8674096588 * t);
-        Z0 += 0.00000001728 * Math.cos(2.95584201533 + 12168.0026965746 * t);
-        Z0 += 0.00000001840 * Math.cos(0.20978853293 + 4032.7700279266 * t);
-        Z0 += 0.00000001669 * Math.cos(5.50497155791 + 951.7184062506 * t);
-        Z0 += 0.00000001911 * Math.cos(2.94107630035 + 1748.016413067 * t);
-        Z0 += 0.00000001442 * Math.cos(1.87731237490 + 3077.528503327 * t);
-        Z0 += 0.00000001589 * Math.cos(1.73601297200 + 3369.0616141676 * t);
-        Z0 += 0.00000001379 * Math.cos(0.09013023527 + 10419.9862835076 * t);
-        Z0 += 0.00000001392 * Math.cos(0.27504136647 + 3325.3599555148 * t);
-        Z0 += 0.00000001580 * Math.cos(4.48665176300 + 3.523118349 * t);
-        Z0 += 0.00000001766 * Math.cos(1.85661467458 + 6525.8044539654 * t);
-        Z0 += 0.00000001292 * Math.cos(2.51829136056 + 3603.6963500726 * t);
-        Z0 += 0.00000001297 * Math.cos(5.48481699939 + 11371.7046897582 * t);
-        Z0 += 0.00000001613 * Math.cos(0.62341029242 + 553.5694028424 * t);
-        Z0 += 0.00000001384 * Math.cos(4.11719633248 + 3355.8648978848 * t);
-        Z0 += 0.00000001261 * Math.cos(1.86730474733 + 6680.2445323314 * t);
-        Z0 += 0.00000001610 * Math.cos(2.65671079949 + 3312.163239232 * t);
-        Z0 += 0.00000001274 * Math.cos(0.55350948232 + 3191.0492295652 * t);
-        Z0 += 0.00000001704 * Math.cos(4.50757815133 + 3097.88382272579 * t);
-        Z0 += 0.00000001460 * Math.cos(0.04101454115 + 7632.9432596502 * t);
-        Z0 += 0.00000001242 * Math.cos(5.75816506092 + 149.5631971346 * t);
-        Z0 += 0.00000001230 * Math.cos(1.10948154340 + 536.8045120954 * t);
-        Z0 += 0.00000001216 * Math.cos(2.98306649362 + 6836.6452528338 * t);
-        Z0 += 0.00000001161 * Math.cos(4.60505013406 + 1648.4467571974 * t);
-        Z0 += 0.00000001579 * Math.cos(3.09053337023 + 15643.6802033098 * t);
-        Z0 += 0.00000001118 * Math.cos(6.05429252683 + 9808.5381846614 * t);
-        Z0 += 0.00000001376 * Math.cos(0.81116680514 + 3503.079062832 * t);
-        Z0 += 0.00000001101 * Math.cos(4.62263227757 + 522.5774180938 * t);
-        Z0 += 0.00000001320 * Math.cos(3.23812050004 + 3347.7259737006 * t);
-        Z0 += 0.00000001419 * Math.cos(0.32932000507 + 3264.3463554242 * t);
-        Z0 += 0.00000001103 * Math.cos(5.79565205719 + 6894.5239488376 * t);
-        Z0 += 0.00000001257 * Math.cos(3.20326473314 + 6682.2051744678 * t);
-        Z0 += 0.00000000968 * Math.cos(4.43650051215 + 103.0927742186 * t);
-        Z0 += 0.00000001004 * Math.cos(4.71380449727 + 2487.4160449478 * t);
-        Z0 += 0.00000001014 * Math.cos(0.55883970461 + 10973.55568635 * t);
-        Z0 += 0.00000000950 * Math.cos(2.98201757904 + 3178.1457905676 * t);
-        Z0 += 0.00000000958 * Math.cos(1.45300862079 + 12566.1516999828 * t);
-        Z0 += 0.00000000964 * Math.cos(5.98684645223 + 242.728603974 * t);
-        Z0 += 0.00000000925 * Math.cos(5.46131905325 + 5614.7293762096 * t);
-        Z0 += 0.00000000935 * Math.cos(4.94933845312 + 1758.6530784168 * t);
-        Z0 += 0.00000001171 * Math.cos(5.79646129252 + 23384.2869868986 * t);
-        Z0 += 0.00000000969 * Math.cos(2.65689194156 + 2648.454825473 * t);
-        Z0 += 0.00000000853 * Math.cos(4.81086337808 + 15110.4661198662 * t);
-        Z0 += 0.00000000901 * Math.cos(5.67928823390 + 2921.1277828246 * t);
-        Z0 += 0.00000001125 * Math.cos(6.27341969245 + 12964.300703391 * t);
-        Z0 += 0.00000000844 * Math.cos(2.97906384874 + 7875.6718636242 * t);
-        Z0 += 0.00000000811 * Math.cos(0.19379046862 + 3346.1353510072 * t);
-        Z0 += 0.00000000812 * Math.cos(4.19639785587 + 3335.0895023924 * t);
-        Z0 += 0.00000000774 * Math.cos(1.38696439205 + 7234.794256242 * t);
-        Z0 += 0.00000000761 * Math.cos(1.99221081181 + 26087.9031415742 * t);
-        Z0 += 0.00000000742 * Math.cos(0.37908087243 + 13358.9265884502 * t);
-        Z0 += 0.00000000732 * Math.cos(5.16784948008 + 9830.3890139878 * t);
-        Z0 += 0.00000000946 * Math.cos(1.88936722079 + 5628.9564702112 * t);
-        Z0 += 0.00000000820 * Math.cos(4.37824637524 + 7373.3824546264 * t);
-        Z0 += 0.00000000671 * Math.cos(5.25224406605 + 76.2660712756 * t);
-        Z0 += 0.00000000785 * Math.cos(4.59990880607 + 6438.4962494256 * t);
-        Z0 += 0.00000000668 * Math.cos(3.61130377946 + 6702.000248892 * t);
-        Z0 += 0.00000000655 * Math.cos(2.60002275981 + 11243.6858464208 * t);
-        Z0 += 0.00000000760 * Math.cos(3.03501058836 + 3360.96774609859 * t);
-        Z0 += 0.00000000764 * Math.cos(4.37581912554 + 11769.8536931664 * t);
-        Z0 += 0.00000000704 * Math.cos(5.80908299008 + 10021.9045904022 * t);
-        Z0 += 0.00000000840 * Math.cos(6.11799044851 + 5331.3574437408 * t);
-        Z0 += 0.00000000641 * Math.cos(1.73269627789 + 1692.1656695024 * t);
-        Z0 += 0.00000000629 * Math.cos(1.09880202633 + 14314.1681130498 * t);
-        Z0 += 0.00000000704 * Math.cos(6.21757937692 + 10021.7699697966 * t);
-        Z0 += 0.00000000646 * Math.cos(3.01919436853 + 9381.9399937854 * t);
-        Z0 += 0.00000000612 * Math.cos(3.40750819704 + 10713.9948813262 * t);
-        Z0 += 0.00000000732 * Math.cos(6.04237219046 + 13365.9728251482 * t);
-        Z0 += 0.00000000771 * Math.cos(2.47252701375 + 15113.9892382152 * t);
-        Z0 += 0.00000000621 * Math.cos(5.85690842904 + 3351.2490920496 * t);
-        Z0 += 0.00000000767 * Math.cos(1.35441792357 + 3320.257107301 * t);
-        Z0 += 0.00000000586 * Math.cos(0.79051565116 + 853.196381752 * t);
-        Z0 += 0.00000000692 * Math.cos(1.46718257115 + 6660.4494579072 * t);
-        Z0 += 0.00000000669 * Math.cos(0.51352618116 + 7064.1213856228 * t);
-        Z0 += 0.00000000528 * Math.cos(3.12611933096 + 74.7815985673 * t);
-        Z0 += 0.00000000600 * Math.cos(5.04547651146 + 692.1576012268 * t);
-        Z0 += 0.00000000630 * Math.cos(1.58386830258 + 1581.959348283 * t);
-        Z0 += 0.00000000623 * Math.cos(4.81491846507 + 3329.97576135 * t);
-        Z0 += 0.00000000661 * Math.cos(2.79286199869 + 2906.900688823 * t);
-        Z0 += 0.00000000570 * Math.cos(4.61307898923 + 3074.005384978 * t);
-        Z0 += 0.00000000524 * Math.cos(6.05770135572 + 3607.2194684216 * t);
-        Z0 += 0.00000000516 * Math.cos(2.43629649577 + 13916.0191096416 * t);
-        Z0 += 0.00000000507 * Math.cos(2.02939502894 + 3333.5661900018 * t);
-        Z0 += 0.00000000605 * Math.cos(1.93804011864 + 10575.4066829418 * t);
-        Z0 += 0.00000000488 * Math.cos(4.67812564849 + 5729.506447149 * t);
-        Z0 += 0.00000000465 * Math.cos(5.56224766580 + 8955.3418029094 * t);
-        Z0 += 0.00000000467 * Math.cos(3.02812406788 + 6144.4203413042 * t);
-        Z0 += 0.00000000524 * Math.cos(2.17529898104 + 6298.3283211764 * t);
-        Z0 += 0.00000000449 * Math.cos(4.27905913954 + 6546.1597733642 * t);
-        Z0 += 0.00000000442 * Math.cos(2.21279250958 + 3347.6586633978 * t);
-        Z0 += 0.00000000442 * Math.cos(0.35835774849 + 18052.9295431578 * t);
-        Z0 += 0.00000000452 * Math.cos(4.74868579573 + 5828.0284716476 * t);
-        Z0 += 0.00000000444 * Math.cos(2.31126753824 + 6677.6344247478 * t);
-        Z0 += 0.00000000454 * Math.cos(5.96502230469 + 419.4846438752 * t);
-        Z0 += 0.00000000457 * Math.cos(2.76482172070 + 5459.3762870782 * t);
-        Z0 += 0.00000000452 * Math.cos(2.18667537557 + 12935.8515159232 * t);
-        Z0 += 0.00000000440 * Math.cos(2.28024553720 + 8969.568896911 * t);
-        Z0 += 0.00000000439 * Math.cos(3.26823913184 + 6127.6554505572 * t);
-        Z0 += 0.00000000417 * Math.cos(2.62418009712 + 433.7117378768 * t);
-        Z0 += 0.00000000450 * Math.cos(4.97549718782 + 6531.661656265 * t);
-        Z0 += 0.00000000467 * Math.cos(5.81074791371 + 6158.6474353058 * t);
-        Z0 += 0.00000000430 * Math.cos(4.78793443738 + 3863.1898447936 * t);
-        Z0 += 0.00000000409 * Math.cos(1.99836071636 + 3980.5097130138 * t);
-        Z0 += 0.00000000399 * Math.cos(4.74255258433 + 10818.1352869158 * t);
-        Z0 += 0.00000000453 * Math.cos(6.26634249241 + 14712.317116458 * t);
-        Z0 += 0.00000000437 * Math.cos(2.74634913436 + 6684.8152820514 * t);
-        Z0 += 0.00000000400 * Math.cos(2.77865299135 + 4989.0591838972 * t);
-        Z0 += 0.00000000506 * Math.cos(1.18461823734 + 1744.4259844152 * t);
-        Z0 += 0.00000000403 * Math.cos(5.36937826882 + 1596.1864422846 * t);
-        Z0 += 0.00000000380 * Math.cos(4.97818849120 + 10014.7237330986 * t);
-        Z0 += 0.00000000371 * Math.cos(3.33405966002 + 10177.2576795336 * t);
-        Z0 += 0.00000000361 * Math.cos(5.24088703687 + 2178.137722292 * t);
-        Z0 += 0.00000000400 * Math.cos(1.62063267593 + 14584.2982731206 * t);
-        Z0 += 0.00000000403 * Math.cos(1.82423390219 + 3399.9862886134 * t);
-        Z0 += 0.00000000410 * Math.cos(4.54392931383 + 3344.4937620578 * t);
-        Z0 += 0.00000000418 * Math.cos(4.88395861492 + 3443.7052009184 * t);
-        Z0 += 0.00000000341 * Math.cos(3.76526341028 + 6688.3384004004 * t);
-        Z0 += 0.00000000387 * Math.cos(2.20624213901 + 3281.2385647862 * t);
-        Z0 += 0.00000000328 * Math.cos(1.60706573380 + 3546.797975137 * t);
-        Z0 += 0.00000000346 * Math.cos(5.93876607715 + 3364.4908644476 * t);
-        Z0 += 0.00000000427 * Math.cos(0.42766619939 + 10551.528245194 * t);
-        Z0 += 0.00000000333 * Math.cos(2.97391198780 + 17256.6315363414 * t);
-        Z0 += 0.00000000351 * Math.cos(0.89374033083 + 16173.3711684044 * t);
-        Z0 += 0.00000000387 * Math.cos(5.50555914948 + 3973.396166013 * t);
-        Z0 += 0.00000000410 * Math.cos(6.13790219128 + 3336.7310913418 * t);
-        Z0 += 0.00000000349 * Math.cos(4.74282066857 + 3316.733988952 * t);
-        Z0 += 0.00000000366 * Math.cos(0.54436256149 + 110.2063212194 * t);
-        Z0 += 0.00000000284 * Math.cos(2.49529211057 + 6784.3176276182 * t);
-        Z0 += 0.00000000338 * Math.cos(3.01411006339 + 8270.2977486834 * t);
-        Z0 += 0.00000000279 * Math.cos(0.15295518242 + 135.0650800354 * t);
-        Z0 += 0.00000000290 * Math.cos(4.30595018325 + 16858.4825329332 * t);
-        Z0 += 0.00000000277 * Math.cos(3.21266616465 + 8329.671610597 * t);
-        Z0 += 0.00000000303 * Math.cos(4.39325865345 + 2818.035008606 * t);
-        Z0 += 0.00000000302 * Math.cos(5.76020823903 + 2384.3232707292 * t);
-        Z0 += 0.00000000360 * Math.cos(0.81576341528 + 6816.289933435 * t);
-        Z0 += 0.00000000287 * Math.cos(5.89677690833 + 3340.19235060619 * t);
-        Z0 += 0.00000000300 * Math.cos(3.61030466166 + 3304.5845600224 * t);
-        Z0 += 0.00000000264 * Math.cos(5.45859266580 + 6604.958782124 * t);
-        Z0 += 0.00000000330 * Math.cos(3.81421832191 + 13517.8701062334 * t);
-        Z0 += 0.00000000287 * Math.cos(4.78503735880 + 3341.0325027934 * t);
-        Z0 += 0.00000000343 * Math.cos(1.02525479822 + 3230.4061054804 * t);
-        Z0 += 0.00000000246 * Math.cos(2.64795288862 + 3304.0070613956 * t);
-        Z0 += 0.00000000310 * Math.cos(1.76905174573 + 10404.7338123226 * t);
-        Z0 += 0.00000000241 * Math.cos(3.33235757149 + 11081.2192102886 * t);
-        Z0 += 0.00000000245 * Math.cos(1.00254307216 + 3209.0704650134 * t);
-        Z0 += 0.00000000295 * Math.cos(0.78856158130 + 3376.6402933772 * t);
-        Z0 += 0.00000000247 * Math.cos(4.74687572675 + 9779.1086761254 * t);
-        Z0 += 0.00000000241 * Math.cos(1.74832761256 + 3377.217792004 * t);
-        Z0 += 0.00000000264 * Math.cos(1.82146900201 + 17654.7805397496 * t);
-        Z0 += 0.00000000274 * Math.cos(2.60650323538 + 3657.0042963564 * t);
-        Z0 += 0.00000000238 * Math.cos(0.43806562773 + 6923.9534573736 * t);
-        Z0 += 0.00000000227 * Math.cos(2.88048108848 + 3415.3940252671 * t);
-        Z0 += 0.00000000300 * Math.cos(0.70241789966 + 3134.4268782626 * t);
-        Z0 += 0.00000000237 * Math.cos(2.19737291235 + 13362.432453147 * t);
-        Z0 += 0.00000000220 * Math.cos(1.43836209680 + 6606.4432548323 * t);
-        Z0 += 0.00000000222 * Math.cos(3.39627559384 + 3472.1543883862 * t);
-        Z0 += 0.00000000217 * Math.cos(2.18530503085 + 20995.3929664494 * t);
-        Z0 += 0.00000000254 * Math.cos(2.93819031378 + 5085.038411115 * t);
-        Z0 += 0.00000000236 * Math.cos(4.23042638023 + 13362.4669604514 * t);
-        Z0 += 0.00000000242 * Math.cos(0.41755696147 + 1861.7458526354 * t);
-        Z0 += 0.00000000285 * Math.cos(0.10171887281 + 17085.9586657222 * t);
-        Z0 += 0.00000000218 * Math.cos(0.33151885058 + 16304.9131300908 * t);
-        Z0 += 0.00000000215 * Math.cos(5.26457047836 + 1375.7737998458 * t);
-        Z0 += 0.00000000207 * Math.cos(3.60591178333 + 7107.8230442756 * t);
-        Z0 += 0.00000000196 * Math.cos(3.34505476799 + 8439.8779318164 * t);
-        Z0 += 0.00000000192 * Math.cos(5.08475415071 + 13119.72110282519 * t);
-        Z0 += 0.00000000269 * Math.cos(0.19698472851 + 3024.2205570432 * t);
-        Z0 += 0.00000000194 * Math.cos(4.52507414451 + 220.4126424388 * t);
-        Z0 += 0.00000000186 * Math.cos(1.75940958561 + 2221.856634597 * t);
-        Z0 += 0.00000000194 * Math.cos(3.41534671398 + 18984.2926300096 * t);
-        Z0 += 0.00000000208 * Math.cos(3.02738720944 + 3511.285297319 * t);
-        Z0 += 0.00000000204 * Math.cos(6.00463791835 + 162.4666361322 * t);
-        Z0 += 0.00000000183 * Math.cos(3.62962279261 + 9168.6408983474 * t);
-        Z0 += 0.00000000175 * Math.cos(4.04165128738 + 3760.097070575 * t);
-        Z0 += 0.00000000174 * Math.cos(4.51117927233 + 23539.7073863328 * t);
-        Z0 += 0.00000000193 * Math.cos(5.88968824988 + 2803.8079146044 * t);
-        Z0 += 0.00000000190 * Math.cos(6.17637484900 + 13745.3462390224 * t);
-        Z0 += 0.00000000208 * Math.cos(3.34809361979 + 3341.0423098265 * t);
-        Z0 += 0.00000000198 * Math.cos(0.97311347960 + 3265.8308281325 * t);
-        Z0 += 0.00000000205 * Math.cos(4.20157952693 + 6843.6914895318 * t);
-        Z0 += 0.00000000222 * Math.cos(1.37049171707 + 3169.9395560806 * t);
-        Z0 += 0.00000000183 * Math.cos(2.19041678580 + 9866.4168806652 * t);
-        Z0 += 0.00000000225 * Math.cos(0.32450219510 + 13149.1506113612 * t);
-        Z0 += 0.00000000211 * Math.cos(4.38136759956 + 640.8776073822 * t);
-        Z0 += 0.00000000200 * Math.cos(3.00112781370 + 1162.4747044078 * t);
-        Z0 += 0.00000000208 * Math.cos(6.18496348629 + 1478.8665740644 * t);
-        Z0 += 0.00000000173 * Math.cos(3.90520749444 + 5099.2655051166 * t);
-        Z0 += 0.00000000175 * Math.cos(0.38064797785 + 956.2891559706 * t);
-        Z0 += 0.00000000158 * Math.cos(2.98574812713 + 13524.9163429314 * t);
-        Z0 += 0.00000000170 * Math.cos(3.37406232659 + 15508.6151232744 * t);
-        Z0 += 0.00000000184 * Math.cos(2.09449845330 + 949.1756089698 * t);
-        Z0 += 0.00000000171 * Math.cos(4.75570011379 + 6261.7402095244 * t);
-        Z0 += 0.00000000188 * Math.cos(5.56241899175 + 16460.33352952499 * t);
-        Z0 += 0.00000000205 * Math.cos(5.01940138208 + 1118.7557921028 * t);
-        Z0 += 0.00000000156 * Math.cos(3.68058177082 + 13553.8979729108 * t);
-        Z0 += 0.00000000170 * Math.cos(2.00050957424 + 224.3447957019 * t);
-        Z0 += 0.00000000208 * Math.cos(1.04576950390 + 3340.1825435731 * t);
-        Z0 += 0.00000000156 * Math.cos(4.90620162208 + 20199.094959633 * t);
-        Z0 += 0.00000000174 * Math.cos(5.58778318130 + 2766.267628365 * t);
-        Z0 += 0.00000000169 * Math.cos(3.71127165203 + 10184.3039162316 * t);
-        Z0 += 0.00000000171 * Math.cos(3.60600294119 + 20597.2439630412 * t);
-        Z0 += 0.00000000140 * Math.cos(1.54110979029 + 2111.6503133776 * t);
-        Z0 += 0.00000000145 * Math.cos(6.17161140540 + 19800.9459562248 * t);
-        Z0 += 0.00000000156 * Math.cos(0.43599559375 + 4459.3682188026 * t);
-        Z0 += 0.00000000143 * Math.cos(0.19892133285 + 10235.1363755374 * t);
-        Z0 += 0.00000000184 * Math.cos(1.58017928752 + 8273.8208670324 * t);
-        Z0 += 0.00000000133 * Math.cos(2.86759235449 + 20618.0193585336 * t);
-        Z0 += 0.00000000151 * Math.cos(1.59809012076 + 13892.1406718938 * t);
-        Z0 += 0.00000000133 * Math.cos(6.14918807002 + 17277.4069318338 * t);
-        Z0 += 0.00000000167 * Math.cos(0.94707767481 + 3274.1250177854 * t);
-        Z0 += 0.00000000143 * Math.cos(4.48621138334 + 632.7837393132 * t);
-        Z0 += 0.00000000126 * Math.cos(4.54286582844 + 3914.9572250346 * t);
-        Z0 += 0.00000000145 * Math.cos(2.88581037055 + 4392.8808098882 * t);
-        Z0 += 0.00000000165 * Math.cos(5.44939669734 + 1228.9621133222 * t);
-        Z0 += 0.00000000124 * Math.cos(2.73197400851 + 3407.0998356142 * t);
-        Z0 += 0.00000000145 * Math.cos(5.65866985683 + 4407.1079038898 * t);
-        Z0 += 0.00000000164 * Math.cos(2.20529053904 + 38.1330356378 * t);
-        Z0 += 0.00000000158 * Math.cos(1.72206104768 + 3296.8935143948 * t);
-        Z0 += 0.00000000116 * Math.cos(0.02904609570 + 26482.1708096244 * t);
-        Z0 += 0.00000000156 * Math.cos(1.25691413032 + 3384.3313390048 * t);
-        Z0 += 0.00000000117 * Math.cos(4.96153079924 + 3981.490034082 * t);
-        Z0 += 0.00000000154 * Math.cos(2.17255031800 + 1964.838626854 * t);
-        Z0 += 0.00000000113 * Math.cos(3.06854044437 + 206.1855484372 * t);
-        Z0 += 0.00000000117 * Math.cos(2.13763640035 + 29424.634232916 * t);
-        Z0 += 0.00000000129 * Math.cos(2.20198223551 + 3450.8187479192 * t);
-        Z0 += 0.00000000115 * Math.cos(5.24850953150 + 3237.5196524812 * t);
-        Z0 += 0.00000000112 * Math.cos(6.26358102825 + 2125.8774073792 * t);
-        Z0 += 0.00000000112 * Math.cos(4.67861613977 + 2807.3983432562 * t);
-        Z0 += 0.00000000115 * Math.cos(0.38603739544 + 12721.572099417 * t);
-        Z0 += 0.00000000113 * Math.cos(1.36558076768 + 6709.6740408674 * t);
-        Z0 += 0.00000000144 * Math.cos(0.22567806033 + 263.0839233728 * t);
-        Z0 += 0.00000000109 * Math.cos(5.27187307952 + 5518.7501489918 * t);
-        Z0 += 0.00000000125 * Math.cos(2.20397088123 + 30220.9322397324 * t);
-        Z0 += 0.00000000108 * Math.cos(6.20219802547 + 6665.9723822146 * t);
-        Z0 += 0.00000000127 * Math.cos(2.68652319514 + 7321.1221397136 * t);
-        Z0 += 0.00000000110 * Math.cos(0.18586807658 + 29822.7832363242 * t);
-        Z0 += 0.00000000107 * Math.cos(0.50226646577 + 22743.4093795164 * t);
-        Z0 += 0.00000000107 * Math.cos(3.59856046864 + 5989.0672521728 * t);
-        Z0 += 0.00000000106 * Math.cos(5.69966166034 + 33561.5446664322 * t);
-        Z0 += 0.00000000105 * Math.cos(3.97375976080 + 9380.9596727172 * t);
-        return Z0;
-    }
-
-
-    static double Z1(double t) // 252 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00533220761 * Math.cos(5.37045188878 + 3340.6124266998 * t);
-        Z1 -= 0.00032258788;
-        Z1 += 0.00007302119 * Math.cos(5.48197049223 + 6681.2248533996 * t);
-        Z1 += 0.00000777092 * Math.cos(3.20452658315 + 10021.8372800994 * t);
-        Z1 += 0.00000166695 * Math.cos(3.41487685068 + 13362.4497067992 * t);
-        Z1 += 0.00000156044 * Math.cos(0.77594576545 + 3337.0893083508 * t);
-        Z1 += 0.00000052883 * Math.cos(2.55566894166 + 2281.2304965106 * t);
-        Z1 += 0.00000042031 * Math.cos(6.05247110697 + 529.6909650946 * t);
-        Z1 += 0.00000031177 * Math.cos(3.47957118843 + 5621.8429232104 * t);
-        Z1 += 0.00000024541 * Math.cos(3.72250523350 + 16703.062133499 * t);
-        Z1 += 0.00000025907 * Math.cos(4.79004064527 + 3344.1355450488 * t);
-        Z1 += 0.00000023800 * Math.cos(2.78437789651 + 3340.5951730476 * t);
-        Z1 += 0.00000017724 * Math.cos(0.33832536017 + 398.1490034082 * t);
-        Z1 += 0.00000024098 * Math.cos(0.26741008281 + 2942.4634232916 * t);
-        Z1 += 0.00000023800 * Math.cos(4.81514959722 + 3340.629680352 * t);
-        Z1 += 0.00000017059 * Math.cos(1.42825204765 + 6151.533888305 * t);
-        Z1 += 0.00000019956 * Math.cos(1.69346504279 + 3532.0606928114 * t);
-        Z1 += 0.00000015117 * Math.cos(1.79886272527 + 2544.3144198834 * t);
-        Z1 += 0.00000013619 * Math.cos(6.03064463759 + 2810.9214616052 * t);
-        Z1 += 0.00000013681 * Math.cos(4.34937268643 + 3496.032826134 * t);
-        Z1 += 0.00000009980 * Math.cos(0.97276584150 + 6677.7017350506 * t);
-        Z1 += 0.00000011657 * Math.cos(2.25529456107 + 5884.9268465832 * t);
-        Z1 += 0.00000009888 * Math.cos(4.14137402777 + 1059.3819301892 * t);
-        Z1 += 0.00000008253 * Math.cos(3.93247597797 + 8962.4553499102 * t);
-        Z1 += 0.00000008936 * Math.cos(0.03236493895 + 3185.1920272656 * t);
-        Z1 += 0.00000007843 * Math.cos(0.86090694397 + 3340.545116397 * t);
-        Z1 += 0.00000007463 * Math.cos(0.85796039982 + 6283.0758499914 * t);
-        Z1 += 0.00000007838 * Math.cos(0.45374819664 + 3340.6797370026 * t);
-        Z1 += 0.00000006532 * Math.cos(3.46604878226 + 5092.1519581158 * t);
-        Z1 += 0.00000007000 * Math.cos(2.91161281175 + 1751.539531416 * t);
-        Z1 += 0.00000006215 * Math.cos(4.29108610819 + 6684.7479717486 * t);
-        Z1 += 0.00000005486 * Math.cos(3.73127537680 + 5486.777843175 * t);
-        Z1 += 0.00000004744 * Math.cos(3.11292686055 + 3339.6321056316 * t);
-        Z1 += 0.00000004768 * Math.cos(1.11702153656 + 2914.0142358238 * t);
-        Z1 += 0.00000003697 * Math.cos(5.07727152864 + 5088.6288397668 * t);
-        Z1 += 0.00000003696 * Math.cos(5.17619762565 + 796.2980068164 * t);
-        Z1 += 0.00000004194 * Math.cos(1.30289365634 + 3738.761430108 * t);
-        Z1 += 0.00000003104 * Math.cos(2.90264842875 + 3894.1818295422 * t);
-        Z1 += 0.00000003078 * Math.cos(3.23232337445 + 2146.1654164752 * t);
-        Z1 += 0.00000003060 * Math.cos(1.47684271283 + 3870.3033917944 * t);
-        Z1 += 0.00000003279 * Math.cos(4.04708484838 + 20043.6745601988 * t);
-        Z1 += 0.00000002645 * Math.cos(6.20328748216 + 213.299095438 * t);
-        Z1 += 0.00000002591 * Math.cos(5.67618677721 + 1592.5960136328 * t);
-        Z1 += 0.00000002686 * Math.cos(2.27518970275 + 3149.1641605882 * t);
-        Z1 += 0.00000003065 * Math.cos(5.50490756275 + 3127.3133312618 * t);
-        Z1 += 0.00000002618 * Math.cos(1.49434953131 + 4292.3308329504 * t);
-        Z1 += 0.00000002929 * Math.cos(0.13035493149 + 4690.4798363586 * t);
-        Z1 += 0.00000002433 * Math.cos(0.83360306332 + 1194.4470102246 * t);
-        Z1 += 0.00000001893 * Math.cos(1.44037290348 + 2787.0430238574 * t);
-        Z1 += 0.00000002056 * Math.cos(2.69646867769 + 4136.9104335162 * t);
-        Z1 += 0.00000001896 * Math.cos(4.12121426717 + 3723.508958923 * t);
-        Z1 += 0.00000001810 * Math.cos(1.25670128975 + 3341.592747768 * t);
-        Z1 += 0.00000001948 * Math.cos(4.26663375622 + 1990.745017041 * t);
-        Z1 += 0.00000002146 * Math.cos(2.79934106364 + 6254.6266625236 * t);
-        Z1 += 0.00000001699 * Math.cos(5.88106551599 + 3097.88382272579 * t);
-        Z1 += 0.00000001644 * Math.cos(2.85985547231 + 2388.8940204492 * t);
-        Z1 += 0.00000001210 * Math.cos(3.52826008702 + 155.4203994342 * t);
-        Z1 += 0.00000001638 * Math.cos(4.23138744183 + 8432.7643848156 * t);
-        Z1 += 0.00000001151 * Math.cos(4.07168420281 + 7.1135470008 * t);
-        Z1 += 0.00000001111 * Math.cos(0.33771745106 + 2957.7158944766 * t);
-        Z1 += 0.00000001375 * Math.cos(4.90390057340 + 3583.3410306738 * t);
-        Z1 += 0.00000001075 * Math.cos(2.89446881499 + 1589.0728952838 * t);
-        Z1 += 0.00000000994 * Math.cos(1.22724079631 + 4535.0594369244 * t);
-        Z1 += 0.00000000973 * Math.cos(2.54415383282 + 9225.539273283 * t);
-        Z1 += 0.00000001053 * Math.cos(2.17507915001 + 2288.3440435114 * t);
-        Z1 += 0.00000001234 * Math.cos(1.07118451631 + 4399.994356889 * t);
-        Z1 += 0.00000000937 * Math.cos(0.33440700581 + 6674.1113063988 * t);
-        Z1 += 0.00000000964 * Math.cos(0.92522802179 + 6467.9257579616 * t);
-        Z1 += 0.00000001180 * Math.cos(1.46657018316 + 3333.498879699 * t);
-        Z1 += 0.00000001149 * Math.cos(4.46586649175 + 10025.3603984484 * t);
-        Z1 += 0.00000000787 * Math.cos(4.21744543042 + 426.598190876 * t);
-        Z1 += 0.00000000734 * Math.cos(1.59169132873 + 9492.1463150048 * t);
-        Z1 += 0.00000000744 * Math.cos(3.21417897895 + 1221.8485663214 * t);
-        Z1 += 0.00000000850 * Math.cos(1.84579754127 + 10213.285546211 * t);
-        Z1 += 0.00000000960 * Math.cos(0.37818281067 + 6525.8044539654 * t);
-        Z1 += 0.00000000748 * Math.cos(3.14653223844 + 6489.776587288 * t);
-        Z1 += 0.00000000939 * Math.cos(3.74411147052 + 4562.4609930212 * t);
-        Z1 += 0.00000000816 * Math.cos(4.88051263913 + 3361.3878221922 * t);
-        Z1 += 0.00000000670 * Math.cos(1.82692939869 + 3325.3599555148 * t);
-        Z1 += 0.00000000787 * Math.cos(4.62073861040 + 1748.016413067 * t);
-        Z1 += 0.00000000746 * Math.cos(2.72473273276 + 3319.8370312074 * t);
-        Z1 += 0.00000000615 * Math.cos(3.00346220351 + 7477.522860216 * t);
-        Z1 += 0.00000000612 * Math.cos(0.94873589103 + 10018.3141617504 * t);
-        Z1 += 0.00000000726 * Math.cos(4.21670769259 + 1052.2683831884 * t);
-        Z1 += 0.00000000562 * Math.cos(2.51075037144 + 2274.1169495098 * t);
-        Z1 += 0.00000000676 * Math.cos(5.46592420299 + 3205.5473466644 * t);
-        Z1 += 0.00000000652 * Math.cos(4.92680960161 + 6681.2421070518 * t);
-        Z1 += 0.00000000580 * Math.cos(1.95948510974 + 3553.9115221378 * t);
-        Z1 += 0.00000000620 * Math.cos(4.53706892447 + 3360.96774609859 * t);
-        Z1 += 0.00000000568 * Math.cos(4.48134936442 + 6836.6452528338 * t);
-        Z1 += 0.00000000516 * Math.cos(3.66568073238 + 1066.49547719 * t);
-        Z1 += 0.00000000652 * Math.cos(2.89603807936 + 6681.2075997474 * t);
-        Z1 += 0.00000000528 * Math.cos(3.91265871028 + 6041.3275670856 * t);
-        Z1 += 0.00000000590 * Math.cos(2.14286730936 + 553.5694028424 * t);
-        Z1 += 0.00000000481 * Math.cos(3.65133581406 + 3337.021998048 * t);
-        Z1 += 0.00000000486 * Math.cos(0.03539800900 + 522.5774180938 * t);
-        Z1 += 0.00000000479 * Math.cos(4.08237627559 + 3344.2028553516 * t);
-        Z1 += 0.00000000491 * Math.cos(3.26656040639 + 382.8965322232 * t);
-        Z1 += 0.00000000599 * Math.cos(3.48114565787 + 191.4482661116 * t);
-        Z1 += 0.00000000460 * Math.cos(3.60938831179 + 11773.3768115154 * t);
-        Z1 += 0.00000000484 * Math.cos(4.53788344821 + 7079.3738568078 * t);
-        Z1 += 0.00000000457 * Math.cos(4.49932663564 + 242.728603974 * t);
-        Z1 += 0.00000000410 * Math.cos(3.93129679071 + 12303.06777661 * t);
-        Z1 += 0.00000000432 * Math.cos(0.62719640964 + 5614.7293762096 * t);
-        Z1 += 0.00000000415 * Math.cos(5.78715397470 + 1349.8674096588 * t);
-        Z1 += 0.00000000449 * Math.cos(6.07546222965 + 4933.2084403326 * t);
-        Z1 += 0.00000000414 * Math.cos(0.76551632852 + 951.7184062506 * t);
-        Z1 += 0.00000000477 * Math.cos(6.15909631316 + 3320.257107301 * t);
-        Z1 += 0.00000000421 * Math.cos(4.37788398088 + 23384.2869868986 * t);
-        Z1 += 0.00000000418 * Math.cos(6.18476783317 + 6438.4962494256 * t);
-        Z1 += 0.00000000482 * Math.cos(3.91728938067 + 8827.3902698748 * t);
-        Z1 += 0.00000000365 * Math.cos(2.58064909826 + 3355.8648978848 * t);
-        Z1 += 0.00000000333 * Math.cos(3.42873039925 + 6680.2445323314 * t);
-        Z1 += 0.00000000330 * Math.cos(3.24081124683 + 9595.2390892234 * t);
-        Z1 += 0.00000000317 * Math.cos(1.00610206365 + 9623.6882766912 * t);
-        Z1 += 0.00000000365 * Math.cos(5.85846191272 + 639.897286314 * t);
-        Z1 += 0.00000000293 * Math.cos(1.52957859377 + 7740.6067835888 * t);
-        Z1 += 0.00000000331 * Math.cos(0.22404636497 + 2700.7151403858 * t);
-        Z1 += 0.00000000255 * Math.cos(3.99432797748 + 2921.1277828246 * t);
-        Z1 += 0.00000000304 * Math.cos(4.22948972595 + 3312.163239232 * t);
-        Z1 += 0.00000000328 * Math.cos(2.40258646743 + 2118.7638603784 * t);
-        Z1 += 0.00000000236 * Math.cos(3.40020727050 + 1758.6530784168 * t);
-        Z1 += 0.00000000251 * Math.cos(5.66519309695 + 536.8045120954 * t);
-        Z1 += 0.00000000237 * Math.cos(1.24529852403 + 3364.4908644476 * t);
-        Z1 += 0.00000000214 * Math.cos(0.56442646442 + 6681.2921637024 * t);
-        Z1 += 0.00000000245 * Math.cos(1.46405275777 + 4929.6853219836 * t);
-        Z1 += 0.00000000261 * Math.cos(1.37575395801 + 3347.7259737006 * t);
-        Z1 += 0.00000000277 * Math.cos(2.45714538470 + 3503.079062832 * t);
-        Z1 += 0.00000000257 * Math.cos(4.63989625540 + 5331.3574437408 * t);
-        Z1 += 0.00000000216 * Math.cos(1.78813616163 + 6127.6554505572 * t);
-        Z1 += 0.00000000266 * Math.cos(1.65519778241 + 6682.2051744678 * t);
-        Z1 += 0.00000000204 * Math.cos(4.87400049907 + 6144.4203413042 * t);
-        Z1 += 0.00000000214 * Math.cos(0.97289996058 + 6681.1575430968 * t);
-        Z1 += 0.00000000193 * Math.cos(2.86664857796 + 7210.9158184942 * t);
-        Z1 += 0.00000000189 * Math.cos(3.19369904946 + 5729.506447149 * t);
-        Z1 += 0.00000000185 * Math.cos(4.60022172333 + 12168.0026965746 * t);
-        Z1 += 0.00000000184 * Math.cos(4.90073216006 + 10419.9862835076 * t);
-        Z1 += 0.00000000196 * Math.cos(2.02607662846 + 3346.1353510072 * t);
-        Z1 += 0.00000000191 * Math.cos(4.71901518542 + 13365.9728251482 * t);
-        Z1 += 0.00000000174 * Math.cos(1.31405252638 + 7064.1213856228 * t);
-        Z1 += 0.00000000167 * Math.cos(0.99843143165 + 8955.3418029094 * t);
-        Z1 += 0.00000000170 * Math.cos(1.48043717586 + 7875.6718636242 * t);
-        Z1 += 0.00000000197 * Math.cos(3.29154622691 + 17654.7805397496 * t);
-        Z1 += 0.00000000170 * Math.cos(2.88198960502 + 6872.6731195112 * t);
-        Z1 += 0.00000000157 * Math.cos(2.56733171598 + 3178.1457905676 * t);
-        Z1 += 0.00000000148 * Math.cos(0.86328445077 + 2699.7348193176 * t);
-        Z1 += 0.00000000152 * Math.cos(5.23944955455 + 6923.9534573736 * t);
-        Z1 += 0.00000000171 * Math.cos(3.14240135508 + 3316.733988952 * t);
-        Z1 += 0.00000000174 * Math.cos(1.48894564475 + 3767.2106175758 * t);
-        Z1 += 0.00000000144 * Math.cos(3.57581507564 + 9830.3890139878 * t);
-        Z1 += 0.00000000140 * Math.cos(3.50121767027 + 3077.528503327 * t);
-        Z1 += 0.00000000147 * Math.cos(0.72898424375 + 2487.4160449478 * t);
-        Z1 += 0.00000000165 * Math.cos(1.35817246585 + 3.523118349 * t);
-        Z1 += 0.00000000171 * Math.cos(5.87779648432 + 11769.8536931664 * t);
-        Z1 += 0.00000000146 * Math.cos(5.13010621713 + 3304.5845600224 * t);
-        Z1 += 0.00000000126 * Math.cos(4.14449585210 + 3603.6963500726 * t);
-        Z1 += 0.00000000150 * Math.cos(0.67031927264 + 6298.3283211764 * t);
-        Z1 += 0.00000000169 * Math.cos(3.37958950467 + 1581.959348283 * t);
-        Z1 += 0.00000000132 * Math.cos(1.36026397982 + 419.4846438752 * t);
-        Z1 += 0.00000000137 * Math.cos(3.91255974972 + 7903.073419721 * t);
-        Z1 += 0.00000000119 * Math.cos(1.11588866360 + 433.7117378768 * t);
-        Z1 += 0.00000000116 * Math.cos(4.20840451833 + 9381.9399937854 * t);
-        Z1 += 0.00000000132 * Math.cos(5.61925791338 + 12832.7587417046 * t);
-        Z1 += 0.00000000119 * Math.cos(3.29620748546 + 10818.1352869158 * t);
-        Z1 += 0.00000000139 * Math.cos(1.48720938048 + 14712.317116458 * t);
-        Z1 += 0.00000000121 * Math.cos(3.78071153759 + 1596.1864422846 * t);
-        Z1 += 0.00000000116 * Math.cos(0.71600721713 + 9866.4168806652 * t);
-        Z1 += 0.00000000107 * Math.cos(2.41569477061 + 2648.454825473 * t);
-        Z1 += 0.00000000141 * Math.cos(1.40883592065 + 3336.7310913418 * t);
-        Z1 += 0.00000000124 * Math.cos(5.27111992916 + 853.196381752 * t);
-        Z1 += 0.00000000120 * Math.cos(0.24314469015 + 3863.1898447936 * t);
-        Z1 += 0.00000000106 * Math.cos(1.89681319705 + 3475.6775067352 * t);
-        Z1 += 0.00000000104 * Math.cos(0.61683878316 + 10021.8200264472 * t);
-        Z1 += 0.00000000099 * Math.cos(2.78700157494 + 10575.4066829418 * t);
-        Z1 += 0.00000000100 * Math.cos(1.75288902946 + 8429.2412664666 * t);
-        Z1 += 0.00000000105 * Math.cos(3.95535664942 + 11243.6858464208 * t);
-        Z1 += 0.00000000104 * Math.cos(2.64763687393 + 10021.8545337516 * t);
-        Z1 += 0.00000000097 * Math.cos(3.70870547299 + 4032.7700279266 * t);
-        Z1 += 0.00000000099 * Math.cos(0.46508871986 + 149.5631971346 * t);
-        Z1 += 0.00000000094 * Math.cos(0.92726193663 + 7632.9432596502 * t);
-        Z1 += 0.00000000098 * Math.cos(1.72351303556 + 18052.9295431578 * t);
-        Z1 += 0.00000000108 * Math.cos(2.41308938131 + 7234.794256242 * t);
-        Z1 += 0.00000000093 * Math.cos(2.12448381740 + 6688.3384004004 * t);
-        Z1 += 0.00000000106 * Math.cos(4.22500281625 + 6158.6474353058 * t);
-        Z1 += 0.00000000109 * Math.cos(3.05520401747 + 640.8776073822 * t);
-        Z1 += 0.00000000110 * Math.cos(0.14136188594 + 5628.9564702112 * t);
-        Z1 += 0.00000000112 * Math.cos(3.90540165638 + 6894.5239488376 * t);
-        Z1 += 0.00000000077 * Math.cos(3.42693027158 + 1744.4259844152 * t);
-        Z1 += 0.00000000083 * Math.cos(0.48188810071 + 8969.568896911 * t);
-        Z1 += 0.00000000078 * Math.cos(3.48895806928 + 7373.3824546264 * t);
-        Z1 += 0.00000000098 * Math.cos(1.09842815785 + 5085.038411115 * t);
-        Z1 += 0.00000000087 * Math.cos(5.57913927474 + 3376.6402933772 * t);
-        Z1 += 0.00000000071 * Math.cos(0.19809257252 + 3980.5097130138 * t);
-        Z1 += 0.00000000072 * Math.cos(4.45423986754 + 17256.6315363414 * t);
-        Z1 += 0.00000000082 * Math.cos(0.70225541331 + 9808.5381846614 * t);
-        Z1 += 0.00000000075 * Math.cos(1.88840044542 + 15643.6802033098 * t);
-        Z1 += 0.00000000071 * Math.cos(4.47046372301 + 10177.2576795336 * t);
-        Z1 += 0.00000000070 * Math.cos(3.37789486799 + 13517.8701062334 * t);
-        Z1 += 0.00000000075 * Math.cos(2.27088357802 + 12566.1516999828 * t);
-        Z1 += 0.00000000066 * Math.cos(0.13337760475 + 15110.4661198662 * t);
-        Z1 += 0.00000000080 * Math.cos(1.32412177054 + 21393.5419698576 * t);
-        Z1 += 0.00000000076 * Math.cos(3.32363330267 + 13916.0191096416 * t);
-        Z1 += 0.00000000067 * Math.cos(4.66693287754 + 5828.0284716476 * t);
-        Z1 += 0.00000000063 * Math.cos(6.16425576512 + 3914.9572250346 * t);
-        Z1 += 0.00000000073 * Math.cos(3.44104044998 + 692.1576012268 * t);
-        Z1 += 0.00000000064 * Math.cos(5.11183842129 + 3191.0492295652 * t);
-        Z1 += 0.00000000076 * Math.cos(4.86164511219 + 20597.2439630412 * t);
-        Z1 += 0.00000000061 * Math.cos(1.44371703655 + 11081.2192102886 * t);
-        Z1 += 0.00000000060 * Math.cos(1.62689158397 + 3335.0895023924 * t);
-        Z1 += 0.00000000075 * Math.cos(4.78215371632 + 12964.300703391 * t);
-        Z1 += 0.00000000061 * Math.cos(3.35711733735 + 20995.3929664494 * t);
-        Z1 += 0.00000000053 * Math.cos(6.24589101777 + 20199.094959633 * t);
-        Z1 += 0.00000000055 * Math.cos(0.28321587193 + 5459.3762870782 * t);
-        Z1 += 0.00000000052 * Math.cos(4.94957858677 + 24734.1543965574 * t);
-        Z1 += 0.00000000051 * Math.cos(3.29132317156 + 15113.9892382152 * t);
-        Z1 += 0.00000000068 * Math.cos(3.59488057957 + 103.0927742186 * t);
-        Z1 += 0.00000000057 * Math.cos(2.70607036374 + 10713.9948813262 * t);
-        Z1 += 0.00000000060 * Math.cos(3.00951950244 + 3344.4937620578 * t);
-        Z1 += 0.00000000065 * Math.cos(2.78876221132 + 3981.490034082 * t);
-        Z1 += 0.00000000049 * Math.cos(3.13153581502 + 2766.267628365 * t);
-        Z1 += 0.00000000049 * Math.cos(2.33304379441 + 6660.4494579072 * t);
-        Z1 += 0.00000000060 * Math.cos(4.17222973491 + 4407.1079038898 * t);
-        Z1 += 0.00000000049 * Math.cos(0.10301634940 + 13358.9265884502 * t);
-        Z1 += 0.00000000046 * Math.cos(0.97092241478 + 8270.2977486834 * t);
-        Z1 += 0.00000000061 * Math.cos(1.61644555817 + 14314.1681130498 * t);
-        Z1 += 0.00000000057 * Math.cos(4.04165606796 + 1648.4467571974 * t);
-        Z1 += 0.00000000060 * Math.cos(0.05239748726 + 8273.8208670324 * t);
-        Z1 += 0.00000000044 * Math.cos(5.68073325802 + 3329.97576135 * t);
-        Z1 += 0.00000000044 * Math.cos(0.43949269085 + 3351.2490920496 * t);
-        Z1 += 0.00000000043 * Math.cos(4.87531812567 + 10021.7699697966 * t);
-        Z1 += 0.00000000048 * Math.cos(1.42334455474 + 76.2660712756 * t);
-        Z1 += 0.00000000045 * Math.cos(4.07917825234 + 1692.1656695024 * t);
-        Z1 += 0.00000000046 * Math.cos(3.33348460172 + 3369.0616141676 * t);
-        Z1 += 0.00000000045 * Math.cos(5.89893308094 + 2818.035008606 * t);
-        Z1 += 0.00000000046 * Math.cos(1.69497220340 + 10404.7338123226 * t);
-        Z1 += 0.00000000041 * Math.cos(5.80219476378 + 6702.000248892 * t);
-        Z1 += 0.00000000040 * Math.cos(5.47626814223 + 3074.005384978 * t);
-        Z1 += 0.00000000044 * Math.cos(5.36428737888 + 2707.8286873866 * t);
-        Z1 += 0.00000000037 * Math.cos(0.64022063667 + 3607.2194684216 * t);
-        Z1 += 0.00000000043 * Math.cos(4.47402411722 + 10021.9045904022 * t);
-        Z1 += 0.00000000034 * Math.cos(3.20375305228 + 5099.2655051166 * t);
-        Z1 += 0.00000000034 * Math.cos(5.74767895336 + 6531.661656265 * t);
-        Z1 += 0.00000000032 * Math.cos(4.71476653314 + 16173.3711684044 * t);
-        Z1 += 0.00000000035 * Math.cos(4.78248662801 + 10551.528245194 * t);
-        Z1 += 0.00000000031 * Math.cos(2.45682708815 + 10973.55568635 * t);
-        Z1 += 0.00000000036 * Math.cos(2.89209321078 + 3333.5661900018 * t);
-        Z1 += 0.00000000031 * Math.cos(3.61192484167 + 6684.8152820514 * t);
-        Z1 += 0.00000000041 * Math.cos(4.63075392785 + 8031.0922630584 * t);
-        Z1 += 0.00000000032 * Math.cos(3.03761491100 + 12935.8515159232 * t);
-        Z1 += 0.00000000038 * Math.cos(0.87141658782 + 3973.396166013 * t);
-        Z1 += 0.00000000040 * Math.cos(3.89104366040 + 74.7815985673 * t);
-        Z1 += 0.00000000028 * Math.cos(3.07347183013 + 3281.2385647862 * t);
-        return Z1 * t;
-    }
-
-
-    static double Z2(double t) // 133 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00025937973 * Math.cos(0.59444055009 + 3340.6124266998 * t);
-        Z2 -= 0.00011396105;
-        Z2 += 0.00000237211 * Math.cos(5.64509583638 + 6681.2248533996 * t);
-        Z2 += 0.00000018120 * Math.cos(2.24234887624 + 3337.0893083508 * t);
-        Z2 += 0.00000011005 * Math.cos(0.65490267432 + 10021.8372800994 * t);
-        Z2 += 0.00000009574 * Math.cos(1.87721957302 + 13362.4497067992 * t);
-        Z2 += 0.00000004373 * Math.cos(5.89380048765 + 3496.032826134 * t);
-        Z2 += 0.00000002387 * Math.cos(1.18064647446 + 2281.2304965106 * t);
-        Z2 += 0.00000002425 * Math.cos(2.24521403500 + 16703.062133499 * t);
-        Z2 += 0.00000002528 * Math.cos(5.16130960942 + 5621.8429232104 * t);
-        Z2 += 0.00000001966 * Math.cos(1.32977724844 + 529.6909650946 * t);
-        Z2 += 0.00000002006 * Math.cos(4.80335600212 + 3185.1920272656 * t);
-        Z2 += 0.00000002202 * Math.cos(3.18250102468 + 3532.0606928114 * t);
-        Z2 += 0.00000001723 * Math.cos(3.39265057715 + 2544.3144198834 * t);
-        Z2 += 0.00000002050 * Math.cos(1.83403249506 + 2942.4634232916 * t);
-        Z2 += 0.00000001453 * Math.cos(0.37005682859 + 3344.1355450488 * t);
-        Z2 += 0.00000001154 * Math.cos(4.29461877948 + 3340.5951730476 * t);
-        Z2 += 0.00000000942 * Math.cos(5.17754009029 + 5486.777843175 * t);
-        Z2 += 0.00000001154 * Math.cos(0.04220516563 + 3340.629680352 * t);
-        Z2 += 0.00000001059 * Math.cos(3.80803028238 + 5884.9268465832 * t);
-        Z2 += 0.00000000802 * Math.cos(4.47943934542 + 3894.1818295422 * t);
-        Z2 += 0.00000000790 * Math.cos(2.35155821746 + 6677.7017350506 * t);
-        Z2 += 0.00000000825 * Math.cos(4.68895461946 + 3339.6321056316 * t);
-        Z2 += 0.00000000712 * Math.cos(0.32050354263 + 5088.6288397668 * t);
-        Z2 += 0.00000000708 * Math.cos(3.10465264690 + 6151.533888305 * t);
-        Z2 += 0.00000000753 * Math.cos(1.05772254525 + 3097.88382272579 * t);
-        Z2 += 0.00000000681 * Math.cos(5.28693721347 + 2810.9214616052 * t);
-        Z2 += 0.00000000576 * Math.cos(2.00619713133 + 398.1490034082 * t);
-        Z2 += 0.00000000534 * Math.cos(4.77461983159 + 2146.1654164752 * t);
-        Z2 += 0.00000000558 * Math.cos(4.73319922901 + 5092.1519581158 * t);
-        Z2 += 0.00000000532 * Math.cos(3.07796101643 + 4292.3308329504 * t);
-        Z2 += 0.00000000431 * Math.cos(5.63787706168 + 3723.508958923 * t);
-        Z2 += 0.00000000486 * Math.cos(1.71152918305 + 4690.4798363586 * t);
-        Z2 += 0.00000000395 * Math.cos(5.46836844513 + 8962.4553499102 * t);
-        Z2 += 0.00000000380 * Math.cos(2.37265090321 + 3340.545116397 * t);
-        Z2 += 0.00000000379 * Math.cos(2.21710594361 + 6283.0758499914 * t);
-        Z2 += 0.00000000380 * Math.cos(1.96415613563 + 3340.6797370026 * t);
-        Z2 += 0.00000000455 * Math.cos(2.58588447058 + 20043.6745601988 * t);
-        Z2 += 0.00000000340 * Math.cos(6.21625640724 + 2787.0430238574 * t);
-        Z2 += 0.00000000347 * Math.cos(3.54462815350 + 3583.3410306738 * t);
-        Z2 += 0.00000000287 * Math.cos(4.23196046901 + 3333.498879699 * t);
-        Z2 += 0.00000000233 * Math.cos(5.05398236760 + 155.4203994342 * t);
-        Z2 += 0.00000000230 * Math.cos(1.34020611446 + 3127.3133312618 * t);
-        Z2 += 0.00000000236 * Math.cos(2.56255875970 + 6684.7479717486 * t);
-        Z2 += 0.00000000260 * Math.cos(6.15858109011 + 1748.016413067 * t);
-        Z2 += 0.00000000206 * Math.cos(3.72535272141 + 1059.3819301892 * t);
-        Z2 += 0.00000000248 * Math.cos(5.15522357344 + 6525.8044539654 * t);
-        Z2 += 0.00000000192 * Math.cos(0.80270977901 + 2288.3440435114 * t);
-        Z2 += 0.00000000204 * Math.cos(4.67148878659 + 6254.6266625236 * t);
-        Z2 += 0.00000000240 * Math.cos(1.10355321364 + 2388.8940204492 * t);
-        Z2 += 0.00000000178 * Math.cos(2.70046492113 + 1990.745017041 * t);
-        Z2 += 0.00000000151 * Math.cos(4.03002963282 + 1592.5960136328 * t);
-        Z2 += 0.00000000171 * Math.cos(1.51083272272 + 1751.539531416 * t);
-        Z2 += 0.00000000178 * Math.cos(5.84283595443 + 2914.0142358238 * t);
-        Z2 += 0.00000000136 * Math.cos(5.31523052413 + 3738.761430108 * t);
-        Z2 += 0.00000000136 * Math.cos(1.17176449808 + 1349.8674096588 * t);
-        Z2 += 0.00000000118 * Math.cos(1.93283002344 + 6674.1113063988 * t);
-        Z2 += 0.00000000114 * Math.cos(5.86339475096 + 3341.592747768 * t);
-        Z2 += 0.00000000136 * Math.cos(1.41161175400 + 6438.4962494256 * t);
-        Z2 += 0.00000000109 * Math.cos(5.09540016416 + 2957.7158944766 * t);
-        Z2 += 0.00000000114 * Math.cos(2.87540718990 + 242.728603974 * t);
-        Z2 += 0.00000000122 * Math.cos(4.72332419375 + 2274.1169495098 * t);
-        Z2 += 0.00000000116 * Math.cos(5.94036127941 + 6836.6452528338 * t);
-        Z2 += 0.00000000101 * Math.cos(2.47526676901 + 951.7184062506 * t);
-        Z2 += 0.00000000091 * Math.cos(2.24799296656 + 7.1135470008 * t);
-        Z2 += 0.00000000101 * Math.cos(3.67031931828 + 553.5694028424 * t);
-        Z2 += 0.00000000085 * Math.cos(4.86490039033 + 796.2980068164 * t);
-        Z2 += 0.00000000083 * Math.cos(4.64956502978 + 4562.4609930212 * t);
-        Z2 += 0.00000000095 * Math.cos(3.01019726572 + 10025.3603984484 * t);
-        Z2 += 0.00000000082 * Math.cos(2.24784970600 + 213.299095438 * t);
-        Z2 += 0.00000000072 * Math.cos(2.91435793605 + 23384.2869868986 * t);
-        Z2 += 0.00000000070 * Math.cos(5.55642055050 + 1066.49547719 * t);
-        Z2 += 0.00000000063 * Math.cos(2.72606022638 + 8955.3418029094 * t);
-        Z2 += 0.00000000058 * Math.cos(4.22927578363 + 7210.9158184942 * t);
-        Z2 += 0.00000000060 * Math.cos(5.55658292278 + 6041.3275670856 * t);
-        Z2 += 0.00000000071 * Math.cos(3.27534690079 + 1589.0728952838 * t);
-        Z2 += 0.00000000056 * Math.cos(3.44816851943 + 3325.3599555148 * t);
-        Z2 += 0.00000000063 * Math.cos(3.79468594256 + 3870.3033917944 * t);
-        Z2 += 0.00000000057 * Math.cos(4.55390406368 + 4933.2084403326 * t);
-        Z2 += 0.00000000049 * Math.cos(4.29985057106 + 3355.8648978848 * t);
-        Z2 += 0.00000000048 * Math.cos(1.97226084372 + 10018.3141617504 * t);
-        Z2 += 0.00000000047 * Math.cos(5.89481794819 + 4535.0594369244 * t);
-        Z2 += 0.00000000053 * Math.cos(6.14813219827 + 3360.96774609859 * t);
-        Z2 += 0.00000000045 * Math.cos(3.79109648033 + 6923.9534573736 * t);
-        Z2 += 0.00000000053 * Math.cos(1.49899662719 + 3320.257107301 * t);
-        Z2 += 0.00000000047 * Math.cos(0.28071441637 + 6127.6554505572 * t);
-        Z2 += 0.00000000049 * Math.cos(0.19353472631 + 3347.7259737006 * t);
-        Z2 += 0.00000000058 * Math.cos(5.89204904964 + 1052.2683831884 * t);
-        Z2 += 0.00000000045 * Math.cos(4.60130468759 + 4399.994356889 * t);
-        Z2 += 0.00000000038 * Math.cos(3.96782009416 + 426.598190876 * t);
-        Z2 += 0.00000000040 * Math.cos(1.57658451682 + 6489.776587288 * t);
-        Z2 += 0.00000000037 * Math.cos(1.62198165732 + 5729.506447149 * t);
-        Z2 += 0.00000000041 * Math.cos(1.99669605118 + 2699.7348193176 * t);
-        Z2 += 0.00000000048 * Math.cos(2.84634781523 + 3149.1641605882 * t);
-        Z2 += 0.00000000036 * Math.cos(5.09960798057 + 8432.7643848156 * t);
-        Z2 += 0.00000000037 * Math.cos(0.36652988837 + 6681.2921637024 * t);
-        Z2 += 0.00000000039 * Math.cos(5.13641267319 + 8969.568896911 * t);
-        Z2 += 0.00000000034 * Math.cos(4.67496434823 + 1194.4470102246 * t);
-        Z2 += 0.00000000043 * Math.cos(3.02127238214 + 5331.3574437408 * t);
-        Z2 += 0.00000000037 * Math.cos(1.53879532057 + 191.4482661116 * t);
-        Z2 += 0.00000000039 * Math.cos(2.54138775081 + 2118.7638603784 * t);
-        Z2 += 0.00000000032 * Math.cos(1.49561091356 + 10419.9862835076 * t);
-        Z2 += 0.00000000029 * Math.cos(1.59835843850 + 7477.522860216 * t);
-        Z2 += 0.00000000031 * Math.cos(0.15682384975 + 3205.5473466644 * t);
-        Z2 += 0.00000000029 * Math.cos(0.99282533197 + 522.5774180938 * t);
-        Z2 += 0.00000000028 * Math.cos(4.76871968197 + 382.8965322232 * t);
-        Z2 += 0.00000000028 * Math.cos(4.49319887552 + 9866.4168806652 * t);
-        Z2 += 0.00000000029 * Math.cos(5.20891382825 + 4136.9104335162 * t);
-        Z2 += 0.00000000033 * Math.cos(2.19423390657 + 6467.9257579616 * t);
-        Z2 += 0.00000000028 * Math.cos(6.20715072868 + 6682.2051744678 * t);
-        Z2 += 0.00000000023 * Math.cos(0.54135050421 + 640.8776073822 * t);
-        Z2 += 0.00000000026 * Math.cos(2.01536526590 + 9492.1463150048 * t);
-        Z2 += 0.00000000024 * Math.cos(5.95184917338 + 3361.3878221922 * t);
-        Z2 += 0.00000000022 * Math.cos(3.34551257447 + 13365.9728251482 * t);
-        Z2 += 0.00000000024 * Math.cos(1.43082762360 + 5614.7293762096 * t);
-        Z2 += 0.00000000022 * Math.cos(5.01088515186 + 10021.8545337516 * t);
-        Z2 += 0.00000000023 * Math.cos(0.39604919460 + 536.8045120954 * t);
-        Z2 += 0.00000000020 * Math.cos(4.75287585505 + 3553.9115221378 * t);
-        Z2 += 0.00000000021 * Math.cos(6.15131706326 + 7875.6718636242 * t);
-        Z2 += 0.00000000019 * Math.cos(3.85960262286 + 3319.8370312074 * t);
-        Z2 += 0.00000000022 * Math.cos(2.98009613873 + 10021.8200264472 * t);
-        Z2 += 0.00000000021 * Math.cos(5.09018656324 + 6681.2421070518 * t);
-        Z2 += 0.00000000019 * Math.cos(5.37557953087 + 9623.6882766912 * t);
-        Z2 += 0.00000000021 * Math.cos(3.05785674731 + 6681.2075997474 * t);
-        Z2 += 0.00000000017 * Math.cos(5.33111011611 + 6681.1575430968 * t);
-        Z2 += 0.00000000016 * Math.cos(0.88926952692 + 5628.9564702112 * t);
-        Z2 += 0.00000000019 * Math.cos(4.38572360867 + 6680.2445323314 * t);
-        Z2 += 0.00000000015 * Math.cos(3.04079800434 + 3178.1457905676 * t);
-        Z2 += 0.00000000018 * Math.cos(5.87932589084 + 7740.6067835888 * t);
-        Z2 += 0.00000000014 * Math.cos(4.19183102447 + 12303.06777661 * t);
-        Z2 += 0.00000000014 * Math.cos(3.08467357092 + 3503.079062832 * t);
-        Z2 += 0.00000000014 * Math.cos(4.02054439730 + 3316.733988952 * t);
-        Z2 += 0.00000000014 * Math.cos(2.10530552076 + 3364.4908644476 * t);
-        return Z2 * t * t;
-    }
-
-
-    static double Z3(double t) // 56 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000897035 * Math.cos(1.98437168368 + 3340.6124266998 * t);
-        Z3 += 0.00000097387;
-        Z3 += 0.00000008489 * Math.cos(1.73419562297 + 6681.2248533996 * t);
-        Z3 += 0.00000001419 * Math.cos(3.74979881372 + 3337.0893083508 * t);
-        Z3 += 0.00000000928 * Math.cos(3.63625528948 + 10021.8372800994 * t);
-        Z3 += 0.00000000926 * Math.cos(1.14567082339 + 3496.032826134 * t);
-        Z3 += 0.00000000286 * Math.cos(0.11838177607 + 13362.4497067992 * t);
-        Z3 += 0.00000000276 * Math.cos(3.29100886638 + 3185.1920272656 * t);
-        Z3 += 0.00000000190 * Math.cos(2.55743259713 + 3097.88382272579 * t);
-        Z3 += 0.00000000179 * Math.cos(4.90901018351 + 2544.3144198834 * t);
-        Z3 += 0.00000000186 * Math.cos(4.74419057060 + 3532.0606928114 * t);
-        Z3 += 0.00000000149 * Math.cos(0.69534389042 + 16703.062133499 * t);
-        Z3 += 0.00000000133 * Math.cos(6.04294120509 + 3894.1818295422 * t);
-        Z3 += 0.00000000165 * Math.cos(0.31646002710 + 5621.8429232104 * t);
-        Z3 += 0.00000000176 * Math.cos(3.40942833158 + 2942.4634232916 * t);
-        Z3 += 0.00000000094 * Math.cos(6.25738949900 + 3339.6321056316 * t);
-        Z3 += 0.00000000083 * Math.cos(2.80242797318 + 529.6909650946 * t);
-        Z3 += 0.00000000079 * Math.cos(4.65398630855 + 4292.3308329504 * t);
-        Z3 += 0.00000000073 * Math.cos(0.02372395336 + 2146.1654164752 * t);
-        Z3 += 0.00000000069 * Math.cos(1.90616132633 + 3583.3410306738 * t);
-        Z3 += 0.00000000059 * Math.cos(1.90076914463 + 5088.6288397668 * t);
-        Z3 += 0.00000000057 * Math.cos(0.91841960965 + 3723.508958923 * t);
-        Z3 += 0.00000000066 * Math.cos(3.26000189494 + 4690.4798363586 * t);
-        Z3 += 0.00000000049 * Math.cos(6.24342258336 + 2281.2304965106 * t);
-        Z3 += 0.00000000040 * Math.cos(0.33925158823 + 5486.777843175 * t);
-        Z3 += 0.00000000038 * Math.cos(0.33382735668 + 155.4203994342 * t);
-        Z3 += 0.00000000037 * Math.cos(5.38905349684 + 3340.5951730476 * t);
-        Z3 += 0.00000000043 * Math.cos(3.67789144879 + 6525.8044539654 * t);
-        Z3 += 0.00000000037 * Math.cos(1.13663982116 + 3340.629680352 * t);
-        Z3 += 0.00000000034 * Math.cos(0.54674814571 + 1059.3819301892 * t);
-        Z3 += 0.00000000033 * Math.cos(3.70799920482 + 6677.7017350506 * t);
-        Z3 += 0.00000000042 * Math.cos(1.06901082266 + 20043.6745601988 * t);
-        Z3 += 0.00000000040 * Math.cos(5.18845744550 + 5884.9268465832 * t);
-        Z3 += 0.00000000028 * Math.cos(5.53170427847 + 3333.498879699 * t);
-        Z3 += 0.00000000027 * Math.cos(4.74965318878 + 2787.0430238574 * t);
-        Z3 += 0.00000000032 * Math.cos(2.94765501590 + 398.1490034082 * t);
-        Z3 += 0.00000000026 * Math.cos(0.80891817293 + 1194.4470102246 * t);
-        Z3 += 0.00000000020 * Math.cos(5.71161307356 + 5092.1519581158 * t);
-        Z3 += 0.00000000014 * Math.cos(0.59214435004 + 4399.994356889 * t);
-        Z3 += 0.00000000012 * Math.cos(0.57596701083 + 1748.016413067 * t);
-        Z3 += 0.00000000015 * Math.cos(5.61526640204 + 7079.3738568078 * t);
-        Z3 += 0.00000000014 * Math.cos(4.18010272073 + 6151.533888305 * t);
-        Z3 += 0.00000000012 * Math.cos(5.88319051616 + 1592.5960136328 * t);
-        Z3 += 0.00000000012 * Math.cos(3.74719789330 + 242.728603974 * t);
-        Z3 += 0.00000000011 * Math.cos(3.77687231272 + 2274.1169495098 * t);
-        Z3 += 0.00000000011 * Math.cos(3.28827114872 + 3738.761430108 * t);
-        Z3 += 0.00000000011 * Math.cos(6.10972583214 + 23384.2869868986 * t);
-        Z3 += 0.00000000010 * Math.cos(6.20023805343 + 2288.3440435114 * t);
-        Z3 += 0.00000000011 * Math.cos(1.61096472294 + 3344.1355450488 * t);
-        Z3 += 0.00000000009 * Math.cos(2.89522242682 + 553.5694028424 * t);
-        Z3 += 0.00000000011 * Math.cos(4.21212605505 + 6489.776587288 * t);
-        Z3 += 0.00000000008 * Math.cos(2.95652295638 + 3127.3133312618 * t);
-        Z3 += 0.00000000007 * Math.cos(0.49773686048 + 6684.7479717486 * t);
-        Z3 += 0.00000000007 * Math.cos(5.43009944036 + 4933.2084403326 * t);
-        Z3 += 0.00000000007 * Math.cos(2.19921948725 + 6438.4962494256 * t);
-        Z3 += 0.00000000009 * Math.cos(3.04008808528 + 7.1135470008 * t);
-        return Z3 * t * t * t;
-    }
-
-
-    static double Z4(double t) // 20 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000030554;
-        Z4 += 0.00000019442 * Math.cos(3.44959674542 + 3340.6124266998 * t);
-        Z4 += 0.00000000371 * Math.cos(0.36613555151 + 6681.2248533996 * t);
-        Z4 += 0.00000000155 * Math.cos(2.66185835593 + 3496.032826134 * t);
-        Z4 += 0.00000000081 * Math.cos(5.27888218929 + 3337.0893083508 * t);
-        Z4 += 0.00000000073 * Math.cos(1.31158212762 + 10021.8372800994 * t);
-        Z4 += 0.00000000034 * Math.cos(4.09971603267 + 3097.88382272579 * t);
-        Z4 += 0.00000000033 * Math.cos(1.76655964001 + 3185.1920272656 * t);
-        Z4 += 0.00000000015 * Math.cos(0.95989595600 + 3894.1818295422 * t);
-        Z4 += 0.00000000009 * Math.cos(0.31833513882 + 3583.3410306738 * t);
-        Z4 += 0.00000000006 * Math.cos(3.76221637426 + 6684.7479717486 * t);
-        Z4 += 0.00000000006 * Math.cos(1.44439054717 + 2787.0430238574 * t);
-        Z4 += 0.00000000008 * Math.cos(1.39569739639 + 3344.1355450488 * t);
-        Z4 += 0.00000000006 * Math.cos(5.83516395431 + 3532.0606928114 * t);
-        Z4 += 0.00000000006 * Math.cos(5.97538779583 + 2544.3144198834 * t);
-        Z4 += 0.00000000005 * Math.cos(5.41788972302 + 16703.062133499 * t);
-        Z4 += 0.00000000006 * Math.cos(1.96708787649 + 6525.8044539654 * t);
-        Z4 += 0.00000000004 * Math.cos(5.61196522691 + 4292.3308329504 * t);
-        Z4 += 0.00000000004 * Math.cos(4.54689889636 + 2942.4634232916 * t);
-        Z4 += 0.00000000005 * Math.cos(2.79859082923 + 13362.4497067992 * t);
-        return Z4 * t * t * t * t;
-    }
-
-
-    static double Z5(double t) // 7 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000597 * Math.cos(4.83347154755 + 3340.6124266998 * t);
-        Z5 += 0.00000000028 * Math.cos(5.25340658633 + 6681.2248533996 * t);
-        Z5 += 0.00000000021 * Math.cos(4.17736925293 + 3496.032826134 * t);
-        Z5 += 0.00000000011;
-        Z5 += 0.00000000006 * Math.cos(5.72895319056 + 10021.8372800994 * t);
-        Z5 += 0.00000000002 * Math.cos(0.08188351604 + 16703.062133499 * t);
-        Z5 += 0.00000000003 * Math.cos(0.40135650339 + 3185.1920272656 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
@@ -1,3027 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   NEPTUNE - VSOP87 Series Version C
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX OF THE DATE
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 4000 BC < Date < 8000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class C_Neptune {
-
-    static double X0(double t) // 821 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 30.05973100580 * Math.cos(5.31188633083 + 38.3768531213 * t);
-        X0 += 0.40567587218 * Math.cos(3.98149970131 + 0.2438174835 * t);
-        X0 += 0.13506026414 * Math.cos(3.50055820972 + 76.50988875911 * t);
-        X0 += 0.15716341901 * Math.cos(0.11310077968 + 36.892380413 * t);
-        X0 += 0.14935642614 * Math.cos(1.08477702063 + 39.86132582961 * t);
-        X0 += 0.02590782232 * Math.cos(1.99609768221 + 1.7282901918 * t);
-        X0 += 0.01073890204 * Math.cos(5.38477153556 + 75.0254160508 * t);
-        X0 += 0.00816388197 * Math.cos(0.78185518038 + 3.21276290011 * t);
-        X0 += 0.00702768075 * Math.cos(1.45363642119 + 35.40790770471 * t);
-        X0 += 0.00687594822 * Math.cos(0.72075739344 + 37.88921815429 * t);
-        X0 += 0.00565555652 * Math.cos(5.98943773879 + 41.3457985379 * t);
-        X0 += 0.00495650075 * Math.cos(0.59957534348 + 529.9347825781 * t);
-        X0 += 0.00306025380 * Math.cos(0.39916788140 + 73.5409433425 * t);
-        X0 += 0.00272446904 * Math.cos(0.87404115637 + 213.5429129215 * t);
-        X0 += 0.00135892298 * Math.cos(5.54654979922 + 77.9943614674 * t);
-        X0 += 0.00122117697 * Math.cos(1.30863876781 + 34.9202727377 * t);
-        X0 += 0.00090968285 * Math.cos(1.68886748674 + 114.6429243969 * t);
-        X0 += 0.00068915400 * Math.cos(5.83470374400 + 4.6972356084 * t);
-        X0 += 0.00040370680 * Math.cos(2.66129691063 + 33.9234349964 * t);
-        X0 += 0.00028891307 * Math.cos(4.78947715515 + 42.83027124621 * t);
-        X0 += 0.00029247752 * Math.cos(1.62319522731 + 72.05647063421 * t);
-        X0 += 0.00025576289 * Math.cos(1.48342967006 + 71.5688356672 * t);
-        X0 += 0.00020517968 * Math.cos(2.55621077117 + 33.43580002939 * t);
-        X0 += 0.00012614154 * Math.cos(3.56929744338 + 113.15845168861 * t);
-        X0 += 0.00012788929 * Math.cos(2.73769634046 + 111.67397898031 * t);
-        X0 += 0.00012013477 * Math.cos(0.94915799508 + 1059.6257476727 * t);
-        X0 += 0.00009854638 * Math.cos(0.25713641240 + 36.404745446 * t);
-        X0 += 0.00008385825 * Math.cos(1.65242210861 + 108.2173985967 * t);
-        X0 += 0.00007577585 * Math.cos(0.09970777629 + 426.8420083595 * t);
-        X0 += 0.00006452053 * Math.cos(4.62556526073 + 6.1817083167 * t);
-        X0 += 0.00006551074 * Math.cos(1.91884050790 + 1.24065522479 * t);
-        X0 += 0.00004652534 * Math.cos(0.10344003066 + 37.8555882595 * t);
-        X0 += 0.00004732958 * Math.cos(4.09711900918 + 79.47883417571 * t);
-        X0 += 0.00004557247 * Math.cos(1.09712661798 + 38.89811798311 * t);
-        X0 += 0.00004322550 * Math.cos(2.37744779374 + 38.32866901151 * t);
-        X0 += 0.00004315539 * Math.cos(5.10473140788 + 38.4250372311 * t);
-        X0 += 0.00004089036 * Math.cos(1.99429063701 + 37.4136452748 * t);
-        X0 += 0.00004248658 * Math.cos(5.63379709294 + 28.81562556571 * t);
-        X0 += 0.00004622142 * Math.cos(2.73995451568 + 70.08436295889 * t);
-        X0 += 0.00003926447 * Math.cos(5.48975060892 + 39.34006096781 * t);
-        X0 += 0.00003148422 * Math.cos(5.18755364576 + 76.0222537921 * t);
-        X0 += 0.00003940981 * Math.cos(2.29766376691 + 98.6561710411 * t);
-        X0 += 0.00003323363 * Math.cos(4.68776245279 + 4.4366031775 * t);
-        X0 += 0.00003282964 * Math.cos(2.81551282614 + 39.3736908626 * t);
-        X0 += 0.00003110464 * Math.cos(1.84416897204 + 47.9380806769 * t);
-        X0 += 0.00002927062 * Math.cos(2.83767313961 + 70.5719979259 * t);
-        X0 += 0.00002748919 * Math.cos(3.86990252936 + 32.4389622881 * t);
-        X0 += 0.00003316668 * Math.cos(1.82194084200 + 144.8659615262 * t);
-        X0 += 0.00002822405 * Math.cos(3.78131048254 + 31.9513273211 * t);
-        X0 += 0.00002695972 * Math.cos(3.85276301548 + 110.189506272 * t);
-        X0 += 0.00002522990 * Math.cos(4.66308619966 + 311.9552664791 * t);
-        X0 += 0.00001888129 * Math.cos(3.20464683230 + 35.9291725665 * t);
-        X0 += 0.00001648229 * Math.cos(4.07040254381 + 30.300098274 * t);
-        X0 += 0.00001826545 * Math.cos(3.58021128918 + 44.31474395451 * t);
-        X0 += 0.00001956241 * Math.cos(4.14516146871 + 206.42936592071 * t);
-        X0 += 0.00001681257 * Math.cos(4.27560127770 + 40.8245336761 * t);
-        X0 += 0.00001533383 * Math.cos(1.17732213608 + 38.26497853671 * t);
-        X0 += 0.00001893076 * Math.cos(0.75017402977 + 220.6564599223 * t);
-        X0 += 0.00001527526 * Math.cos(0.02173638301 + 38.4887277059 * t);
-        X0 += 0.00002085691 * Math.cos(1.56948272604 + 149.8070146181 * t);
-        X0 += 0.00002070612 * Math.cos(2.82581806721 + 136.78920667889 * t);
-        X0 += 0.00001535699 * Math.cos(0.61413315675 + 73.0533083755 * t);
-        X0 += 0.00001667976 * Math.cos(2.91712458990 + 106.73292588839 * t);
-        X0 += 0.00001289620 * Math.cos(3.39708861100 + 46.4536079686 * t);
-        X0 += 0.00001559811 * Math.cos(0.55870841967 + 38.11622069041 * t);
-        X0 += 0.00001545705 * Math.cos(0.64028776037 + 38.6374855522 * t);
-        X0 += 0.00001435033 * Math.cos(0.72855949679 + 522.8212355773 * t);
-        X0 += 0.00001406206 * Math.cos(3.61717027558 + 537.0483295789 * t);
-        X0 += 0.00001256446 * Math.cos(2.70907758736 + 34.1840674273 * t);
-        X0 += 0.00001387973 * Math.cos(3.71843398082 + 116.12739710521 * t);
-        X0 += 0.00001457739 * Math.cos(1.98981635014 + 181.5145244557 * t);
-        X0 += 0.00001228429 * Math.cos(2.78646343835 + 72.31710306511 * t);
-        X0 += 0.00001140665 * Math.cos(3.96643713353 + 7.83293736379 * t);
-        X0 += 0.00001080801 * Math.cos(4.75483465055 + 42.5696388153 * t);
-        X0 += 0.00001201409 * Math.cos(0.74547986507 + 2.7251279331 * t);
-        X0 += 0.00001228671 * Math.cos(2.65249731727 + 148.32254190981 * t);
-        X0 += 0.00000722014 * Math.cos(6.16806714444 + 152.77596003471 * t);
-        X0 += 0.00000608545 * Math.cos(4.49536985567 + 35.4560918145 * t);
-        X0 += 0.00000722865 * Math.cos(3.09340262825 + 143.38148881789 * t);
-        X0 += 0.00000632820 * Math.cos(3.41702130042 + 7.66618102501 * t);
-        X0 += 0.00000642369 * Math.cos(3.97490787694 + 68.5998902506 * t);
-        X0 += 0.00000553789 * Math.cos(2.98606728111 + 41.2976144281 * t);
-        X0 += 0.00000682276 * Math.cos(2.15806346682 + 218.1630873852 * t);
-        X0 += 0.00000463186 * Math.cos(2.74420554348 + 31.7845709823 * t);
-        X0 += 0.00000521560 * Math.cos(0.34813640632 + 0.719390363 * t);
-        X0 += 0.00000437892 * Math.cos(1.29807722623 + 1589.3167127673 * t);
-        X0 += 0.00000398091 * Math.cos(5.50783691510 + 6.3484646555 * t);
-        X0 += 0.00000384065 * Math.cos(4.72632236146 + 44.96913526031 * t);
-        X0 += 0.00000395583 * Math.cos(5.05527677390 + 108.70503356371 * t);
-        X0 += 0.00000327446 * Math.cos(2.69199709491 + 60.52313540329 * t);
-        X0 += 0.00000358824 * Math.cos(4.99912098256 + 30.4668546128 * t);
-        X0 += 0.00000315179 * Math.cos(0.17468500209 + 74.53778108379 * t);
-        X0 += 0.00000343384 * Math.cos(1.74645896957 + 0.7650823453 * t);
-        X0 += 0.00000399611 * Math.cos(5.33540800911 + 31.2633061205 * t);
-        X0 += 0.00000314611 * Math.cos(2.98803024638 + 419.72846135871 * t);
-        X0 += 0.00000347596 * Math.cos(3.26643963659 + 180.03005174739 * t);
-        X0 += 0.00000382279 * Math.cos(0.21764578681 + 487.1213262793 * t);
-        X0 += 0.00000300918 * Math.cos(4.04922612099 + 69.0875252176 * t);
-        X0 += 0.00000340448 * Math.cos(3.90546849629 + 146.8380692015 * t);
-        X0 += 0.00000298710 * Math.cos(5.18013539651 + 84.5866436064 * t);
-        X0 += 0.00000290629 * Math.cos(1.74873675275 + 110.45013870291 * t);
-        X0 += 0.00000336211 * Math.cos(2.14815098729 + 45.49040012211 * t);
-        X0 += 0.00000305606 * Math.cos(5.63265481978 + 640.1411037975 * t);
-        X0 += 0.00000333702 * Math.cos(2.32938316969 + 254.8116503147 * t);
-        X0 += 0.00000268060 * Math.cos(3.30852201658 + 37.0042549976 * t);
-        X0 += 0.00000264760 * Math.cos(4.12724058864 + 39.749451245 * t);
-        X0 += 0.00000315240 * Math.cos(2.72241788492 + 388.70897272171 * t);
-        X0 += 0.00000227098 * Math.cos(4.59157281152 + 273.8222308413 * t);
-        X0 += 0.00000306112 * Math.cos(1.75345186469 + 6283.3196674749 * t);
-        X0 += 0.00000284373 * Math.cos(3.36139825385 + 12.77399045571 * t);
-        X0 += 0.00000221105 * Math.cos(3.50940363876 + 213.0552779545 * t);
-        X0 += 0.00000242568 * Math.cos(2.06437650010 + 14.258463164 * t);
-        X0 += 0.00000241087 * Math.cos(4.16115355874 + 105.2484531801 * t);
-        X0 += 0.00000226136 * Math.cos(2.83815938853 + 80.963306884 * t);
-        X0 += 0.00000245904 * Math.cos(0.54462524204 + 27.3311528574 * t);
-        X0 += 0.00000265825 * Math.cos(4.10952660358 + 944.7390057923 * t);
-        X0 += 0.00000207893 * Math.cos(5.07812851336 + 30.95448957981 * t);
-        X0 += 0.00000214661 * Math.cos(2.65402494691 + 316.6356871401 * t);
-        X0 += 0.00000190638 * Math.cos(2.32667703756 + 69.3963417583 * t);
-        X0 += 0.00000246295 * Math.cos(1.98638488517 + 102.84895673509 * t);
-        X0 += 0.00000202915 * Math.cos(0.60029260077 + 415.04804069769 * t);
-        X0 += 0.00000176465 * Math.cos(0.14731292877 + 36.7805058284 * t);
-        X0 += 0.00000193886 * Math.cos(3.35476299352 + 174.9222423167 * t);
-        X0 += 0.00000175209 * Math.cos(1.12575693515 + 39.97320041421 * t);
-        X0 += 0.00000177868 * Math.cos(3.43923391414 + 216.67861467689 * t);
-        X0 += 0.00000138494 * Math.cos(5.45265920432 + 75.98862389731 * t);
-        X0 += 0.00000152234 * Math.cos(4.81662104772 + 11.2895177474 * t);
-        X0 += 0.00000147648 * Math.cos(1.68543706672 + 151.2914873264 * t);
-        X0 += 0.00000156202 * Math.cos(3.65252575052 + 146.3504342345 * t);
-        X0 += 0.00000152289 * Math.cos(0.07345728764 + 23.87457247379 * t);
-        X0 += 0.00000177911 * Math.cos(3.17643554721 + 10213.5293636945 * t);
-        X0 += 0.00000162474 * Math.cos(4.13351391379 + 63.9797157869 * t);
-        X0 += 0.00000121226 * Math.cos(5.10584286197 + 38.16440480021 * t);
-        X0 += 0.00000129049 * Math.cos(3.80684906955 + 37.1048287341 * t);
-        X0 += 0.00000120334 * Math.cos(2.37637214462 + 38.5893014424 * t);
-        X0 += 0.00000168977 * Math.cos(2.49551838497 + 291.4602132442 * t);
-        X0 += 0.00000121138 * Math.cos(1.49657109299 + 33.26904369061 * t);
-        X0 += 0.00000129366 * Math.cos(2.36903010922 + 45.7992166628 * t);
-        X0 += 0.00000144682 * Math.cos(0.63023431786 + 49.42255338521 * t);
-        X0 += 0.00000122915 * Math.cos(3.67433526761 + 39.6488775085 * t);
-        X0 += 0.00000113400 * Math.cos(0.42160185021 + 83.1021708981 * t);
-        X0 += 0.00000154892 * Math.cos(1.74989069653 + 77.4730966056 * t);
-        X0 += 0.00000106737 * Math.cos(0.57437068095 + 4.8639919472 * t);
-        X0 += 0.00000104756 * Math.cos(5.96272070512 + 43.484662552 * t);
-        X0 += 0.00000125142 * Math.cos(5.82780261996 + 4.2096006414 * t);
-        X0 += 0.00000103541 * Math.cos(5.25634741505 + 41.08516610701 * t);
-        X0 += 0.00000133573 * Math.cos(3.92147215781 + 182.998997164 * t);
-        X0 += 0.00000103627 * Math.cos(2.29256111601 + 35.6685401356 * t);
-        X0 += 0.00000116874 * Math.cos(5.41378396536 + 62.4952430786 * t);
-        X0 += 0.00000098063 * Math.cos(3.25654027665 + 9.8050450391 * t);
-        X0 += 0.00000111411 * Math.cos(4.34345309647 + 141.8970161096 * t);
-        X0 += 0.00000114294 * Math.cos(5.56228935636 + 633.0275567967 * t);
-        X0 += 0.00000104705 * Math.cos(6.26072139356 + 433.9555553603 * t);
-        X0 += 0.00000121306 * Math.cos(1.44892345337 + 40.8581635709 * t);
-        X0 += 0.00000096954 * Math.cos(6.17373469303 + 1052.51220067191 * t);
-        X0 += 0.00000085104 * Math.cos(4.79018222360 + 36.6799320919 * t);
-        X0 += 0.00000085209 * Math.cos(5.94497188324 + 105.76971804189 * t);
-        X0 += 0.00000085291 * Math.cos(2.59495207397 + 109.701871305 * t);
-        X0 += 0.00000083260 * Math.cos(0.00625676877 + 529.44714761109 * t);
-        X0 += 0.00000080200 * Math.cos(2.69199769694 + 40.07377415071 * t);
-        X0 += 0.00000107927 * Math.cos(0.01570870082 + 1162.7185218913 * t);
-        X0 += 0.00000095241 * Math.cos(3.61102256601 + 253.32717760639 * t);
-        X0 += 0.00000089535 * Math.cos(3.25178384851 + 32.9602271499 * t);
-        X0 += 0.00000089793 * Math.cos(2.76430560225 + 65.46418849521 * t);
-        X0 += 0.00000072027 * Math.cos(0.11366576076 + 36.9405645228 * t);
-        X0 += 0.00000080381 * Math.cos(5.21057317852 + 67.1154175423 * t);
-        X0 += 0.00000099502 * Math.cos(2.53010647936 + 453.1810763355 * t);
-        X0 += 0.00000088685 * Math.cos(1.33848394125 + 251.6759485593 * t);
-        X0 += 0.00000094971 * Math.cos(4.11602347578 + 219.6475600935 * t);
-        X0 += 0.00000077015 * Math.cos(5.30660266172 + 5.6604434549 * t);
-        X0 += 0.00000069098 * Math.cos(1.84984192453 + 22.3900997655 * t);
-        X0 += 0.00000079079 * Math.cos(4.12824954018 + 44.48150029329 * t);
-        X0 += 0.00000069159 * Math.cos(3.95901333551 + 1066.7392946735 * t);
-        X0 += 0.00000064446 * Math.cos(4.03076164648 + 66.9486612035 * t);
-        X0 += 0.00000088518 * Math.cos(2.66179796694 + 328.1087761737 * t);
-        X0 += 0.00000065817 * Math.cos(1.42821476263 + 36.3711155512 * t);
-        X0 += 0.00000071422 * Math.cos(4.23104971231 + 43.79347909271 * t);
-        X0 += 0.00000063298 * Math.cos(2.21146718451 + 9.1506537333 * t);
-        X0 += 0.00000077320 * Math.cos(0.26842720811 + 97.17169833279 * t);
-        X0 += 0.00000073912 * Math.cos(1.72397638430 + 2.6769438233 * t);
-        X0 += 0.00000073965 * Math.cos(5.55809543248 + 2.9521304692 * t);
-        X0 += 0.00000056194 * Math.cos(4.45857439361 + 949.4194264533 * t);
-        X0 += 0.00000059173 * Math.cos(1.41372632607 + 100.14064374939 * t);
-        X0 += 0.00000067507 * Math.cos(3.94700376513 + 7.14491616321 * t);
-        X0 += 0.00000071718 * Math.cos(0.93392607299 + 2.20386307129 * t);
-        X0 += 0.00000063606 * Math.cos(5.17175542607 + 25.8466801491 * t);
-        X0 += 0.00000071523 * Math.cos(2.05830478088 + 662.28738607949 * t);
-        X0 += 0.00000057219 * Math.cos(0.88485013288 + 15.7429358723 * t);
-        X0 += 0.00000050322 * Math.cos(1.08310288762 + 37.15301284391 * t);
-        X0 += 0.00000066615 * Math.cos(3.42462264660 + 846.3266522347 * t);
-        X0 += 0.00000056220 * Math.cos(4.52386924168 + 178.5455790391 * t);
-        X0 += 0.00000067883 * Math.cos(3.88546727303 + 224.5886131854 * t);
-        X0 += 0.00000057761 * Math.cos(5.16493680948 + 145.35359649321 * t);
-        X0 += 0.00000053973 * Math.cos(6.25404762289 + 107.2205608554 * t);
-        X0 += 0.00000057588 * Math.cos(4.84839311245 + 25.3590451821 * t);
-        X0 += 0.00000049026 * Math.cos(1.27836371915 + 19.2543980101 * t);
-        X0 += 0.00000063036 * Math.cos(4.29760573349 + 256.296123023 * t);
-        X0 += 0.00000045304 * Math.cos(0.86492921312 + 4.1759707466 * t);
-        X0 += 0.00000045669 * Math.cos(2.17547535945 + 117.6118698135 * t);
-        X0 += 0.00000052821 * Math.cos(3.77933473571 + 289.97574053589 * t);
-        X0 += 0.00000044016 * Math.cos(2.25498623278 + 32.7477788288 * t);
-        X0 += 0.00000042933 * Math.cos(6.21504221321 + 28.98238190449 * t);
-        X0 += 0.00000038369 * Math.cos(0.36602717013 + 39.6006933987 * t);
-        X0 += 0.00000038805 * Math.cos(4.12403932769 + 103.3365917021 * t);
-        X0 += 0.00000037679 * Math.cos(3.40097359574 + 9.3174100721 * t);
-        X0 += 0.00000040292 * Math.cos(6.03933270535 + 111.18634401329 * t);
-        X0 += 0.00000050011 * Math.cos(6.19966711969 + 221.61966776881 * t);
-        X0 += 0.00000037056 * Math.cos(4.63008749202 + 8.32057233081 * t);
-        X0 += 0.00000036562 * Math.cos(0.18548635975 + 448.98829064149 * t);
-        X0 += 0.00000044628 * Math.cos(3.82762130859 + 525.2543619171 * t);
-        X0 += 0.00000038213 * Math.cos(0.28030378709 + 75.54668091261 * t);
-        X0 += 0.00000045963 * Math.cos(4.06403723861 + 183.486632131 * t);
-        X0 += 0.00000048222 * Math.cos(2.81328685847 + 364.7573391032 * t);
-        X0 += 0.00000038164 * Math.cos(5.23367149002 + 44.00592741381 * t);
-        X0 += 0.00000047779 * Math.cos(6.19272750750 + 3340.8562441833 * t);
-        X0 += 0.00000042228 * Math.cos(5.64690940917 + 77.0311536209 * t);
-        X0 += 0.00000035247 * Math.cos(0.20766845689 + 34.7535163989 * t);
-        X0 += 0.00000046804 * Math.cos(3.96902162832 + 33.6964324603 * t);
-        X0 += 0.00000034352 * Math.cos(1.08289070011 + 33.71098667531 * t);
-        X0 += 0.00000034949 * Math.cos(2.01384094499 + 3.37951923889 * t);
-        X0 += 0.00000036030 * Math.cos(2.17275904548 + 71.09326278771 * t);
-        X0 += 0.00000038112 * Math.cos(5.65470955047 + 45.9659730016 * t);
-        X0 += 0.00000033119 * Math.cos(5.27794057043 + 7.3573644843 * t);
-        X0 += 0.00000032049 * Math.cos(4.61840704188 + 34.44469985821 * t);
-        X0 += 0.00000031910 * Math.cos(1.77890975693 + 81.61769818981 * t);
-        X0 += 0.00000038697 * Math.cos(2.66910057126 + 184.97110483931 * t);
-        X0 += 0.00000041486 * Math.cos(2.58550378076 + 310.4707937708 * t);
-        X0 += 0.00000038631 * Math.cos(2.31715796823 + 50.9070260935 * t);
-        X0 += 0.00000042711 * Math.cos(2.19232104972 + 1021.49271203491 * t);
-        X0 += 0.00000032006 * Math.cos(0.97590559431 + 42.00018984371 * t);
-        X0 += 0.00000038436 * Math.cos(0.31352578874 + 5.92107588581 * t);
-        X0 += 0.00000038880 * Math.cos(3.29381198979 + 76.55807286891 * t);
-        X0 += 0.00000041190 * Math.cos(4.58002024645 + 563.87503252191 * t);
-        X0 += 0.00000029786 * Math.cos(1.00565266044 + 77.5067265004 * t);
-        X0 += 0.00000040604 * Math.cos(4.47511985144 + 292.9446859525 * t);
-        X0 += 0.00000035275 * Math.cos(1.67517293934 + 304.84171947829 * t);
-        X0 += 0.00000038242 * Math.cos(2.80091349300 + 17.76992530181 * t);
-        X0 += 0.00000034445 * Math.cos(4.48124108827 + 319.06881347989 * t);
-        X0 += 0.00000028725 * Math.cos(5.51593817617 + 67.6366824041 * t);
-        X0 += 0.00000032809 * Math.cos(5.57900930431 + 91.54262404029 * t);
-        X0 += 0.00000038880 * Math.cos(0.56654650956 + 76.4617046493 * t);
-        X0 += 0.00000030731 * Math.cos(5.22467991145 + 67.60305250931 * t);
-        X0 += 0.00000028459 * Math.cos(0.11298908847 + 43.0427195673 * t);
-        X0 += 0.00000035368 * Math.cos(3.56936550095 + 313.43973918739 * t);
-        X0 += 0.00000035703 * Math.cos(0.06787236157 + 258.26823069831 * t);
-        X0 += 0.00000032317 * Math.cos(2.30071476395 + 78.9575693139 * t);
-        X0 += 0.00000029243 * Math.cos(0.30724049567 + 61.01077037031 * t);
-        X0 += 0.00000026235 * Math.cos(3.88058959053 + 137.2768416459 * t);
-        X0 += 0.00000026519 * Math.cos(6.20266742881 + 57.4993082325 * t);
-        X0 += 0.00000024931 * Math.cos(5.73688334159 + 42.997027585 * t);
-        X0 += 0.00000027608 * Math.cos(5.39681935370 + 103.7639804718 * t);
-        X0 += 0.00000028680 * Math.cos(4.65490114562 + 215.1941419686 * t);
-        X0 += 0.00000025052 * Math.cos(5.70195779765 + 350.08830211689 * t);
-        X0 += 0.00000031386 * Math.cos(4.10756442698 + 22.22334342671 * t);
-        X0 += 0.00000027545 * Math.cos(1.30787829275 + 100.6282787164 * t);
-        X0 += 0.00000022617 * Math.cos(3.46251776435 + 36.8441963032 * t);
-        X0 += 0.00000024909 * Math.cos(0.20851017271 + 24.36220744081 * t);
-        X0 += 0.00000026216 * Math.cos(4.94808817995 + 491.8017469403 * t);
-        X0 += 0.00000028040 * Math.cos(2.83295165264 + 11.55015017831 * t);
-        X0 += 0.00000023047 * Math.cos(4.24570423583 + 35.51978228931 * t);
-        X0 += 0.00000027067 * Math.cos(3.95547247738 + 326.62430346539 * t);
-        X0 += 0.00000026192 * Math.cos(2.35959813381 + 20.7388707184 * t);
-        X0 += 0.00000023134 * Math.cos(2.59485537406 + 68.4331339118 * t);
-        X0 += 0.00000021423 * Math.cos(0.87822750255 + 39.90950993941 * t);
-        X0 += 0.00000025696 * Math.cos(0.32414101638 + 186.4555775476 * t);
-        X0 += 0.00000026985 * Math.cos(3.53264939991 + 69.6087900794 * t);
-        X0 += 0.00000023284 * Math.cos(2.71588030137 + 79.43065006591 * t);
-        X0 += 0.00000022894 * Math.cos(0.61847067768 + 227.77000692311 * t);
-        X0 += 0.00000022482 * Math.cos(0.72349596890 + 39.8131417198 * t);
-        X0 += 0.00000023480 * Math.cos(4.39643703557 + 30.9881194746 * t);
-        X0 += 0.00000020858 * Math.cos(3.23577429095 + 41.2339239533 * t);
-        X0 += 0.00000020327 * Math.cos(1.15567976096 + 39.0312444271 * t);
-        X0 += 0.00000020327 * Math.cos(0.04331485179 + 37.72246181551 * t);
-        X0 += 0.00000022639 * Math.cos(0.21515321589 + 0.9800227939 * t);
-        X0 += 0.00000022639 * Math.cos(0.21515321589 + 1.46765776091 * t);
-        X0 += 0.00000019139 * Math.cos(0.03506366059 + 205.9417309537 * t);
-        X0 += 0.00000019118 * Math.cos(1.62564867989 + 2119.00767786191 * t);
-        X0 += 0.00000025698 * Math.cos(2.97643019475 + 401.4059020327 * t);
-        X0 += 0.00000021582 * Math.cos(4.29532713983 + 81.13006322279 * t);
-        X0 += 0.00000025509 * Math.cos(4.64829559110 + 329.593248882 * t);
-        X0 += 0.00000024296 * Math.cos(2.11682013072 + 62.0076081116 * t);
-        X0 += 0.00000023969 * Math.cos(0.88887585882 + 135.3047339706 * t);
-        X0 += 0.00000020599 * Math.cos(4.51946091131 + 491.3141119733 * t);
-        X0 += 0.00000016829 * Math.cos(5.63589438225 + 3.1645787903 * t);
-        X0 += 0.00000020030 * Math.cos(4.02146628228 + 217.4750661846 * t);
-        X0 += 0.00000020377 * Math.cos(0.89378346451 + 209.6107596584 * t);
-        X0 += 0.00000017251 * Math.cos(2.57319624936 + 350.5759370839 * t);
-        X0 += 0.00000019625 * Math.cos(6.12382765898 + 129.6756596781 * t);
-        X0 += 0.00000022707 * Math.cos(5.69106089810 + 1436.2969352491 * t);
-        X0 += 0.00000017142 * Math.cos(0.00501932570 + 29.4700168715 * t);
-        X0 += 0.00000016188 * Math.cos(4.90861200887 + 39.00999256771 * t);
-        X0 += 0.00000016188 * Math.cos(2.57356791106 + 37.7437136749 * t);
-        X0 += 0.00000020858 * Math.cos(4.67505024087 + 58.9837809408 * t);
-        X0 += 0.00000015747 * Math.cos(1.88900821622 + 154.260432743 * t);
-        X0 += 0.00000019714 * Math.cos(0.33238117487 + 294.91679362781 * t);
-        X0 += 0.00000019078 * Math.cos(2.73754913300 + 202.4972126576 * t);
-        X0 += 0.00000021530 * Math.cos(3.37996249680 + 114.1552894299 * t);
-        X0 += 0.00000019068 * Math.cos(1.82733694293 + 138.2736793872 * t);
-        X0 += 0.00000018723 * Math.cos(6.21404671018 + 323.74923414091 * t);
-        X0 += 0.00000018916 * Math.cos(5.47002080885 + 40.3825906914 * t);
-        X0 += 0.00000015843 * Math.cos(0.27660393480 + 72.577735496 * t);
-        X0 += 0.00000020695 * Math.cos(5.32080415125 + 86.07111631471 * t);
-        X0 += 0.00000015895 * Math.cos(5.73200518668 + 736.1203310153 * t);
-        X0 += 0.00000014983 * Math.cos(2.13549071268 + 743.23387801611 * t);
-        X0 += 0.00000014928 * Math.cos(0.78464963633 + 34.23225153711 * t);
-        X0 += 0.00000015461 * Math.cos(6.04598420333 + 20.850745303 * t);
-        X0 += 0.00000016206 * Math.cos(6.05974800797 + 138.76131435421 * t);
-        X0 += 0.00000015978 * Math.cos(0.85734083354 + 515.70768857651 * t);
-        X0 += 0.00000014173 * Math.cos(2.99587831656 + 99.1438060081 * t);
-        X0 += 0.00000018749 * Math.cos(3.37545937432 + 54.5303628159 * t);
-        X0 += 0.00000013971 * Math.cos(5.11256155147 + 76.77052119001 * t);
-        X0 += 0.00000013971 * Math.cos(5.03098185419 + 76.2492563282 * t);
-        X0 += 0.00000014035 * Math.cos(4.45768361334 + 235.68919520349 * t);
-        X0 += 0.00000018894 * Math.cos(4.59865824553 + 31.4757544416 * t);
-        X0 += 0.00000014967 * Math.cos(0.97104009185 + 52.3914988018 * t);
-        X0 += 0.00000017392 * Math.cos(1.69348450373 + 74.0622082043 * t);
-        X0 += 0.00000014788 * Math.cos(5.00944229014 + 56.01483552421 * t);
-        X0 += 0.00000015758 * Math.cos(5.97423795440 + 208.8624922605 * t);
-        X0 += 0.00000012911 * Math.cos(0.41434497695 + 42.5214547055 * t);
-        X0 += 0.00000014356 * Math.cos(4.89778066710 + 251.8427048981 * t);
-        X0 += 0.00000016266 * Math.cos(4.96350311575 + 853.4401992355 * t);
-        X0 += 0.00000015513 * Math.cos(1.02523907534 + 59.038662695 * t);
-        X0 += 0.00000012783 * Math.cos(2.34267333656 + 107.52937739611 * t);
-        X0 += 0.00000016075 * Math.cos(4.73335524561 + 366.24181181149 * t);
-        X0 += 0.00000014277 * Math.cos(4.88488299527 + 19.36627259471 * t);
-        X0 += 0.00000014742 * Math.cos(1.55115458505 + 82.4477795923 * t);
-        X0 += 0.00000015111 * Math.cos(4.13629021798 + 363.27286639489 * t);
-        X0 += 0.00000014981 * Math.cos(5.88358063018 + 82.6145359311 * t);
-        X0 += 0.00000014840 * Math.cos(0.62836299110 + 44.0541115236 * t);
-        X0 += 0.00000015592 * Math.cos(1.03195525294 + 8.6293888715 * t);
-        X0 += 0.00000014568 * Math.cos(2.02105422692 + 73.80157577341 * t);
-        X0 += 0.00000012251 * Math.cos(1.18824225128 + 47.28368937111 * t);
-        X0 += 0.00000011447 * Math.cos(0.91374266731 + 175.40987728371 * t);
-        X0 += 0.00000013900 * Math.cos(5.64591952885 + 700.4204217173 * t);
-        X0 += 0.00000015583 * Math.cos(3.88966860773 + 837.4534458797 * t);
-        X0 += 0.00000012109 * Math.cos(2.10142517621 + 33.0084112597 * t);
-        X0 += 0.00000012379 * Math.cos(5.59016916358 + 140.4125434013 * t);
-        X0 += 0.00000011481 * Math.cos(5.22670638349 + 39.2069345238 * t);
-        X0 += 0.00000011481 * Math.cos(2.25547353643 + 37.54677171881 * t);
-        X0 += 0.00000011452 * Math.cos(1.21111994028 + 529.4135177163 * t);
-        X0 += 0.00000010981 * Math.cos(0.01852111423 + 63.49208081989 * t);
-        X0 += 0.00000012137 * Math.cos(2.33017731448 + 42.3090063844 * t);
-        X0 += 0.00000013771 * Math.cos(4.49397894473 + 76.62176334371 * t);
-        X0 += 0.00000011036 * Math.cos(3.16457889057 + 530.45604743991 * t);
-        X0 += 0.00000011537 * Math.cos(4.29449656032 + 199.3158189199 * t);
-        X0 += 0.00000011189 * Math.cos(3.24467764115 + 80.1332254815 * t);
-        X0 += 0.00000012835 * Math.cos(1.26831311464 + 38.85242600079 * t);
-        X0 += 0.00000012879 * Math.cos(4.74400685998 + 5.69407334969 * t);
-        X0 += 0.00000013663 * Math.cos(3.12818073078 + 438.0544649622 * t);
-        X0 += 0.00000010132 * Math.cos(4.37559264666 + 187.9400502559 * t);
-        X0 += 0.00000012619 * Math.cos(4.66177013386 + 65.2035560643 * t);
-        X0 += 0.00000010088 * Math.cos(6.12382762451 + 26.58288545949 * t);
-        X0 += 0.00000011959 * Math.cos(5.90953104234 + 64.7159210973 * t);
-        X0 += 0.00000011578 * Math.cos(4.24710384177 + 275.3067035496 * t);
-        X0 += 0.00000012795 * Math.cos(3.23836197733 + 17.8817998864 * t);
-        X0 += 0.00000013771 * Math.cos(5.64956481971 + 76.3980141745 * t);
-        X0 += 0.00000010044 * Math.cos(0.10145082472 + 147.83490694279 * t);
-        X0 += 0.00000013632 * Math.cos(2.86683446064 + 45.277951801 * t);
-        X0 += 0.00000011660 * Math.cos(2.65801239040 + 143.9027536797 * t);
-        X0 += 0.00000009938 * Math.cos(4.21970476320 + 6.86972951729 * t);
-        X0 += 0.00000009719 * Math.cos(6.05786462616 + 956.53297345411 * t);
-        X0 += 0.00000011441 * Math.cos(0.61314587598 + 533.8669358412 * t);
-        X0 += 0.00000010240 * Math.cos(2.91846731922 + 80.7026744531 * t);
-        X0 += 0.00000010031 * Math.cos(5.38075474506 + 43.74529498291 * t);
-        X0 += 0.00000010063 * Math.cos(5.77064020369 + 0.27744737829 * t);
-        X0 += 0.00000011428 * Math.cos(3.77013145660 + 526.00262931501 * t);
-        X0 += 0.00000009279 * Math.cos(6.16721103485 + 79.6455905145 * t);
-        X0 += 0.00000010172 * Math.cos(2.46540726742 + 568.0678182159 * t);
-        X0 += 0.00000009198 * Math.cos(5.07759437389 + 112.6708167216 * t);
-        X0 += 0.00000009831 * Math.cos(2.49002547943 + 20.9056270572 * t);
-        X0 += 0.00000009830 * Math.cos(3.51040521049 + 544.1618765797 * t);
-        X0 += 0.00000008646 * Math.cos(4.49185896918 + 30.7756711535 * t);
-        X0 += 0.00000009315 * Math.cos(0.15689765715 + 65.63094483399 * t);
-        X0 += 0.00000009201 * Math.cos(0.09219461091 + 184.48346987229 * t);
-        X0 += 0.00000008674 * Math.cos(2.01170720350 + 624.1543504417 * t);
-        X0 += 0.00000010739 * Math.cos(0.49719235939 + 331.56535655731 * t);
-        X0 += 0.00000009612 * Math.cos(5.38629260665 + 182.00215942271 * t);
-        X0 += 0.00000008664 * Math.cos(5.62437013922 + 1479.11039154791 * t);
-        X0 += 0.00000008092 * Math.cos(5.65922856578 + 6.8360996225 * t);
-        X0 += 0.00000010092 * Math.cos(4.71596617075 + 419.2408263917 * t);
-        X0 += 0.00000010233 * Math.cos(4.88231209018 + 402.89037474099 * t);
-        X0 += 0.00000008502 * Math.cos(2.03567120581 + 17.39416491939 * t);
-        X0 += 0.00000010189 * Math.cos(2.58985636739 + 21.7020785649 * t);
-        X0 += 0.00000009829 * Math.cos(5.23644081358 + 121.2352065359 * t);
-        X0 += 0.00000008406 * Math.cos(2.47191018350 + 376.9150050599 * t);
-        X0 += 0.00000008060 * Math.cos(5.62304271115 + 415.7963080956 * t);
-        X0 += 0.00000009455 * Math.cos(0.06796991442 + 167.80869531589 * t);
-        X0 += 0.00000007941 * Math.cos(1.43287391293 + 526.7533888404 * t);
-        X0 += 0.00000007870 * Math.cos(2.90339733997 + 533.1161763158 * t);
-        X0 += 0.00000007695 * Math.cos(0.92731028198 + 906.60597015449 * t);
-        X0 += 0.00000007862 * Math.cos(0.91484097138 + 1265.81129610991 * t);
-        X0 += 0.00000008062 * Math.cos(1.12885573257 + 105.7360881471 * t);
-        X0 += 0.00000008904 * Math.cos(4.30824949636 + 399.9214293244 * t);
-        X0 += 0.00000008050 * Math.cos(0.14722556593 + 143.8691237849 * t);
-        X0 += 0.00000009102 * Math.cos(4.77518241515 + 348.17644063891 * t);
-        X0 += 0.00000007137 * Math.cos(1.26110622464 + 117.5636857037 * t);
-        X0 += 0.00000007076 * Math.cos(3.19957487812 + 26.84351789039 * t);
-        X0 += 0.00000008418 * Math.cos(1.48515415206 + 77.73372903651 * t);
-        X0 += 0.00000008257 * Math.cos(4.44435970504 + 117.77862615229 * t);
-        X0 += 0.00000007868 * Math.cos(5.07706724776 + 288.4912678276 * t);
-        X0 += 0.00000008093 * Math.cos(0.41458983168 + 1692.40948698591 * t);
-        X0 += 0.00000006910 * Math.cos(0.44789832682 + 216.72430665921 * t);
-        X0 += 0.00000007092 * Math.cos(0.01337002281 + 452.65981147369 * t);
-        X0 += 0.00000007060 * Math.cos(1.93108090539 + 453.7023411973 * t);
-        X0 += 0.00000008233 * Math.cos(3.50880140177 + 480.00777927849 * t);
-        X0 += 0.00000006772 * Math.cos(4.46250089888 + 210.36151918381 * t);
-        X0 += 0.00000007025 * Math.cos(1.42668370417 + 55.9029609396 * t);
-        X0 += 0.00000008356 * Math.cos(2.10000097648 + 95.7354097343 * t);
-        X0 += 0.00000007404 * Math.cos(1.00293545057 + 75.2860484817 * t);
-        X0 += 0.00000006839 * Math.cos(0.99943444853 + 41.5125548767 * t);
-        X0 += 0.00000007909 * Math.cos(1.64368221183 + 36.63174798211 * t);
-        X0 += 0.00000007909 * Math.cos(2.69690505451 + 40.12195826051 * t);
-        X0 += 0.00000006362 * Math.cos(0.26347531595 + 29.99128173331 * t);
-        X0 += 0.00000006712 * Math.cos(0.84138813413 + 133.82026126229 * t);
-        X0 += 0.00000007571 * Math.cos(2.81738238064 + 23.707816135 * t);
-        X0 += 0.00000006677 * Math.cos(0.10164158344 + 1.20702533 * t);
-        X0 += 0.00000007600 * Math.cos(0.07294781428 + 494.2348732801 * t);
-        X0 += 0.00000008009 * Math.cos(0.39086308190 + 170.72945662269 * t);
-        X0 += 0.00000007584 * Math.cos(6.04989436828 + 119.2630988606 * t);
-        X0 += 0.00000006599 * Math.cos(2.25520576507 + 32.226513967 * t);
-        X0 += 0.00000006085 * Math.cos(4.97064703625 + 322.00412900171 * t);
-        X0 += 0.00000005953 * Math.cos(2.49854544351 + 52214.1831362697 * t);
-        X0 += 0.00000007827 * Math.cos(3.28593277837 + 474.7030278917 * t);
-        X0 += 0.00000007907 * Math.cos(4.46293464979 + 485.63685357099 * t);
-        X0 += 0.00000007372 * Math.cos(4.88712847504 + 55.05162767771 * t);
-        X0 += 0.00000006966 * Math.cos(5.60552242454 + 647.25465079831 * t);
-        X0 += 0.00000006266 * Math.cos(5.78133779594 + 177.0611063308 * t);
-        X0 += 0.00000005900 * Math.cos(4.92602771915 + 52061.16335875149 * t);
-        X0 += 0.00000006221 * Math.cos(2.35523958706 + 602.00806815971 * t);
-        X0 += 0.00000005552 * Math.cos(5.87735995607 + 223.1041404771 * t);
-        X0 += 0.00000005976 * Math.cos(1.83099110545 + 10.8018827804 * t);
-        X0 += 0.00000007600 * Math.cos(5.33804556108 + 488.6057989876 * t);
-        X0 += 0.00000006831 * Math.cos(0.04615498459 + 1582.2031657665 * t);
-        X0 += 0.00000005654 * Math.cos(3.04032114806 + 12604.5285531041 * t);
-        X0 += 0.00000005798 * Math.cos(1.13675043219 + 27.4979091962 * t);
-        X0 += 0.00000007216 * Math.cos(0.18192294134 + 739.0410923221 * t);
-        X0 += 0.00000006579 * Math.cos(3.94809746775 + 2.69149803831 * t);
-        X0 += 0.00000005758 * Math.cos(2.82344188087 + 30.0394658431 * t);
-        X0 += 0.00000005270 * Math.cos(3.46743079634 + 6166.94845288619 * t);
-        X0 += 0.00000007398 * Math.cos(0.58333334375 + 709.721016842 * t);
-        X0 += 0.00000005679 * Math.cos(5.91776083103 + 17.22740858061 * t);
-        X0 += 0.00000005205 * Math.cos(2.61017638124 + 426.3543733925 * t);
-        X0 += 0.00000005146 * Math.cos(0.81172664742 + 46.7624245093 * t);
-        X0 += 0.00000005694 * Math.cos(2.94913098744 + 168.98435148349 * t);
-        X0 += 0.00000006627 * Math.cos(6.07668723879 + 221.13203280179 * t);
-        X0 += 0.00000005443 * Math.cos(4.34867602386 + 525.7419968841 * t);
-        X0 += 0.00000006475 * Math.cos(2.52364293984 + 591.07424248041 * t);
-        X0 += 0.00000004984 * Math.cos(4.89088409053 + 10097.15814910579 * t);
-        X0 += 0.00000005318 * Math.cos(5.22697316848 + 44.52719227561 * t);
-        X0 += 0.00000006699 * Math.cos(2.95047965393 + 2157.1407134997 * t);
-        X0 += 0.00000006443 * Math.cos(5.65068156930 + 675.0445615878 * t);
-        X0 += 0.00000005078 * Math.cos(0.96513123174 + 101.62511645769 * t);
-        X0 += 0.00000005394 * Math.cos(0.88948762211 + 368.21391948681 * t);
-        X0 += 0.00000005072 * Math.cos(2.52597530610 + 272.33775813299 * t);
-        X0 += 0.00000005208 * Math.cos(4.53150187093 + 277.2788112249 * t);
-        X0 += 0.00000005332 * Math.cos(1.28621962216 + 280.9357778421 * t);
-        X0 += 0.00000005989 * Math.cos(5.89271411050 + 93.0270967486 * t);
-        X0 += 0.00000006329 * Math.cos(0.49570607842 + 18.87863762769 * t);
-        X0 += 0.00000005551 * Math.cos(2.57045763275 + 57.3874336479 * t);
-        X0 += 0.00000006471 * Math.cos(0.04463535540 + 68.1243173711 * t);
-        X0 += 0.00000004708 * Math.cos(2.23921095477 + 95.68722562449 * t);
-        X0 += 0.00000005891 * Math.cos(5.96441381591 + 381.5954257209 * t);
-        X0 += 0.00000004717 * Math.cos(4.31682479516 + 104.2852453336 * t);
-        X0 += 0.00000005675 * Math.cos(1.71229301179 + 1165.6392831981 * t);
-        X0 += 0.00000005888 * Math.cos(0.43219504278 + 42.34263627919 * t);
-        X0 += 0.00000005587 * Math.cos(4.09170092519 + 459.6066021357 * t);
-        X0 += 0.00000005456 * Math.cos(1.50864831442 + 75.50098893029 * t);
-        X0 += 0.00000005940 * Math.cos(6.28075673596 + 6318.4837576961 * t);
-        X0 += 0.00000005207 * Math.cos(4.55134069280 + 436.5699922539 * t);
-        X0 += 0.00000006160 * Math.cos(4.76046448210 + 749.82616015511 * t);
-        X0 += 0.00000006137 * Math.cos(4.59348226478 + 713.17759722561 * t);
-        X0 += 0.00000004547 * Math.cos(2.39218547281 + 32.47259218289 * t);
-        X0 += 0.00000005246 * Math.cos(4.97888240032 + 109.9625037359 * t);
-        X0 += 0.00000005244 * Math.cos(2.33674770879 + 73.5891274523 * t);
-        X0 += 0.00000005572 * Math.cos(6.12038028190 + 102.11275142471 * t);
-        X0 += 0.00000005638 * Math.cos(1.42053892188 + 10248.6934539157 * t);
-        X0 += 0.00000004513 * Math.cos(1.62848698862 + 1272.9248431107 * t);
-        X0 += 0.00000004340 * Math.cos(2.36449866810 + 384.02855206069 * t);
-        X0 += 0.00000004263 * Math.cos(4.24631269159 + 1577.52274510549 * t);
-        X0 += 0.00000005964 * Math.cos(4.92643136579 + 786.47472308461 * t);
-        X0 += 0.00000004962 * Math.cos(6.09839378254 + 257.78059573129 * t);
-        X0 += 0.00000005327 * Math.cos(5.70215230442 + 107.74182571721 * t);
-        X0 += 0.00000005572 * Math.cos(0.87438107795 + 291.2934569054 * t);
-        X0 += 0.00000004336 * Math.cos(5.80113193852 + 53.40958840249 * t);
-        X0 += 0.00000004427 * Math.cos(3.00157250839 + 189.42452296421 * t);
-        X0 += 0.00000004157 * Math.cos(3.46647899628 + 29.5036467663 * t);
-        X0 += 0.00000004646 * Math.cos(2.87774169214 + 13285.93981804009 * t);
-        X0 += 0.00000005507 * Math.cos(4.27464738844 + 178.11819026941 * t);
-        X0 += 0.00000005348 * Math.cos(1.42468292991 + 24.88347230261 * t);
-        X0 += 0.00000005339 * Math.cos(3.91840662285 + 314.6635794648 * t);
-        X0 += 0.00000004678 * Math.cos(4.43608792406 + 1474.4299708869 * t);
-        X0 += 0.00000004090 * Math.cos(3.35633664186 + 765.3801602981 * t);
-        X0 += 0.00000005008 * Math.cos(5.85701520659 + 352.06040979221 * t);
-        X0 += 0.00000005562 * Math.cos(0.40887335705 + 6248.1555772537 * t);
-        X0 += 0.00000004983 * Math.cos(3.16236150253 + 1055.43296197871 * t);
-        X0 += 0.00000004566 * Math.cos(5.25700629292 + 325.1398307571 * t);
-        X0 += 0.00000005327 * Math.cos(5.25347269162 + 439.53893767049 * t);
-        X0 += 0.00000005121 * Math.cos(5.84825704577 + 711.6931245173 * t);
-        X0 += 0.00000004181 * Math.cos(1.11749590962 + 6606.1994373488 * t);
-        X0 += 0.00000004293 * Math.cos(4.65873798886 + 46.71424039951 * t);
-        X0 += 0.00000005532 * Math.cos(0.53479774781 + 320.03202132639 * t);
-        X0 += 0.00000004492 * Math.cos(0.09912827297 + 52177.53457334019 * t);
-        X0 += 0.00000004312 * Math.cos(1.38883413817 + 22.8777347325 * t);
-        X0 += 0.00000005332 * Math.cos(1.83070192574 + 10178.3652734733 * t);
-        X0 += 0.00000004593 * Math.cos(0.14820750962 + 1025.6854977289 * t);
-        X0 += 0.00000005439 * Math.cos(5.09447580219 + 823.12328601411 * t);
-        X0 += 0.00000003870 * Math.cos(4.27995377915 + 1596.43025976811 * t);
-        X0 += 0.00000003892 * Math.cos(2.11564791977 + 226.07308589371 * t);
-        X0 += 0.00000004891 * Math.cos(2.80814026706 + 8.1417539045 * t);
-        X0 += 0.00000004689 * Math.cos(3.52062924653 + 276.79117625789 * t);
-        X0 += 0.00000004268 * Math.cos(2.59269427473 + 374.15181032 * t);
-        X0 += 0.00000003828 * Math.cos(2.28076604659 + 2138.2331988371 * t);
-        X0 += 0.00000004592 * Math.cos(3.87527577295 + 1376.0176173293 * t);
-        X0 += 0.00000004629 * Math.cos(0.97709160917 + 122.71967924421 * t);
-        X0 += 0.00000003871 * Math.cos(3.17548325596 + 531.4192552864 * t);
-        X0 += 0.00000004995 * Math.cos(0.32063762943 + 32.69959471901 * t);
-        X0 += 0.00000004711 * Math.cos(0.43748317622 + 52252.31617190749 * t);
-        X0 += 0.00000003893 * Math.cos(0.12475334110 + 116.294153444 * t);
-        X0 += 0.00000004481 * Math.cos(4.66479841820 + 53.0458901076 * t);
-        X0 += 0.00000004136 * Math.cos(2.59386926777 + 503.1080796351 * t);
-        X0 += 0.00000004508 * Math.cos(4.38574998818 + 562.12992738271 * t);
-        X0 += 0.00000005025 * Math.cos(0.39865233659 + 283.38345839689 * t);
-        X0 += 0.00000004789 * Math.cos(2.68692249791 + 627.7228054099 * t);
-        X0 += 0.00000004021 * Math.cos(0.14454426922 + 6603.23049193219 * t);
-        X0 += 0.00000005163 * Math.cos(4.77460676620 + 25519.83532335829 * t);
-        X0 += 0.00000004150 * Math.cos(3.86319541901 + 27.443027442 * t);
-        X0 += 0.00000003623 * Math.cos(2.29457319711 + 1665.5827840429 * t);
-        X0 += 0.00000004634 * Math.cos(1.79141170909 + 3227.45397501119 * t);
-        X0 += 0.00000004060 * Math.cos(6.21658618282 + 304.4780211834 * t);
-        X0 += 0.00000003862 * Math.cos(0.50812728673 + 74.504151189 * t);
-        X0 += 0.00000003561 * Math.cos(4.92971224760 + 358.6526919312 * t);
-        X0 += 0.00000004557 * Math.cos(6.27521064672 + 25974.74468988559 * t);
-        X0 += 0.00000004264 * Math.cos(1.56884112199 + 634.93941827469 * t);
-        X0 += 0.00000004482 * Math.cos(1.70550805319 + 342.61105682121 * t);
-        X0 += 0.00000003539 * Math.cos(0.56907944763 + 119.7507338276 * t);
-        X0 += 0.00000004304 * Math.cos(0.63784646457 + 12567.8799901746 * t);
-        X0 += 0.00000004138 * Math.cos(4.03567139847 + 107.2541907502 * t);
-        X0 += 0.00000004284 * Math.cos(0.05420881503 + 294.42915866079 * t);
-        X0 += 0.00000003723 * Math.cos(5.58644401851 + 987.325459555 * t);
-        X0 += 0.00000003723 * Math.cos(5.58644401851 + 987.813094522 * t);
-        X0 += 0.00000004606 * Math.cos(5.49553530451 + 14.42521950279 * t);
-        X0 += 0.00000004236 * Math.cos(6.22240593144 + 155.9116617901 * t);
-        X0 += 0.00000004458 * Math.cos(2.64590572483 + 395.8225197225 * t);
-        X0 += 0.00000004798 * Math.cos(5.23929868658 + 530.195415009 * t);
-        X0 += 0.00000003640 * Math.cos(2.22734915897 + 2564.8313897131 * t);
-        X0 += 0.00000003563 * Math.cos(5.37459598926 + 12451.50877558589 * t);
-        X0 += 0.00000003443 * Math.cos(2.13809774331 + 245.2504227591 * t);
-        X0 += 0.00000003429 * Math.cos(4.73423412994 + 530.0466571627 * t);
-        X0 += 0.00000003872 * Math.cos(4.09217464449 + 308.98632106249 * t);
-        X0 += 0.00000003406 * Math.cos(5.88979864779 + 529.82290799351 * t);
-        X0 += 0.00000004348 * Math.cos(1.52419659995 + 20311.92816802509 * t);
-        X0 += 0.00000004589 * Math.cos(5.24153025487 + 181.08713568601 * t);
-        X0 += 0.00000003854 * Math.cos(5.92510183178 + 12564.91104475801 * t);
-        X0 += 0.00000003789 * Math.cos(4.29351893525 + 3101.6359018085 * t);
-        X0 += 0.00000003783 * Math.cos(0.26936683978 + 1614.17130803499 * t);
-        X0 += 0.00000003904 * Math.cos(0.00421090422 + 369.8014580591 * t);
-        X0 += 0.00000003765 * Math.cos(4.70889835066 + 1025.94613015981 * t);
-        X0 += 0.00000004231 * Math.cos(5.35914297519 + 31.52393855141 * t);
-        X0 += 0.00000004303 * Math.cos(4.97345150272 + 396.785727569 * t);
-        X0 += 0.00000004085 * Math.cos(1.80921070558 + 14.47091148511 * t);
-        X0 += 0.00000004085 * Math.cos(1.80921070558 + 13.9832765181 * t);
-        X0 += 0.00000003346 * Math.cos(4.91522066963 + 20351.54567637119 * t);
-        X0 += 0.00000004021 * Math.cos(6.08537487228 + 748.3416874468 * t);
-        X0 += 0.00000003753 * Math.cos(1.17204243376 + 524.99372948619 * t);
-        X0 += 0.00000003935 * Math.cos(1.24122122244 + 1617.14025345159 * t);
-        X0 += 0.00000004432 * Math.cos(3.45778366813 + 511.3515908212 * t);
-        X0 += 0.00000004170 * Math.cos(4.42864444413 + 274.87931477991 * t);
-        X0 += 0.00000003317 * Math.cos(1.79347554880 + 266.70868384049 * t);
-        X0 += 0.00000004545 * Math.cos(4.56531161641 + 244.5624015585 * t);
-        X0 += 0.00000003589 * Math.cos(1.55384880430 + 59.526297662 * t);
-        X0 += 0.00000003464 * Math.cos(0.37736158688 + 102.27950776349 * t);
-        X0 += 0.00000004526 * Math.cos(4.55402483522 + 525.7901809939 * t);
-        X0 += 0.00000004603 * Math.cos(4.40260765490 + 26088.1469590577 * t);
-        X0 += 0.00000004021 * Math.cos(5.38581853850 + 52174.56562792359 * t);
-        X0 += 0.00000003276 * Math.cos(1.95663025139 + 1306.3774580875 * t);
-        X0 += 0.00000003214 * Math.cos(3.94235488355 + 20348.57673095459 * t);
-        X0 += 0.00000003706 * Math.cos(5.25360971143 + 27.07052042651 * t);
-        X0 += 0.00000003759 * Math.cos(4.32245166720 + 164.83974989929 * t);
-        X0 += 0.00000003184 * Math.cos(2.01654309849 + 538.0115374254 * t);
-        X0 += 0.00000004430 * Math.cos(5.37917502758 + 529.6741501472 * t);
-        X0 += 0.00000004064 * Math.cos(1.03322736236 + 6130.2998899567 * t);
-        X0 += 0.00000003918 * Math.cos(4.20575585414 + 375.43053235159 * t);
-        X0 += 0.00000004058 * Math.cos(5.13313296042 + 433.4342904985 * t);
-        X0 += 0.00000003919 * Math.cos(0.36694469487 + 1092.8177302186 * t);
-        X0 += 0.00000003919 * Math.cos(0.36694469487 + 1093.3053651856 * t);
-        X0 += 0.00000003175 * Math.cos(1.14568678321 + 241.3664536058 * t);
-        X0 += 0.00000003135 * Math.cos(5.81037649777 + 127.22797912329 * t);
-        X0 += 0.00000003834 * Math.cos(1.84941829775 + 14.3133449182 * t);
-        X0 += 0.00000004022 * Math.cos(1.72079825603 + 1477.8383671607 * t);
-        X0 += 0.00000003221 * Math.cos(1.09261076661 + 78.1611178062 * t);
-        X0 += 0.00000003426 * Math.cos(0.06166201047 + 519.8522901607 * t);
-        X0 += 0.00000004369 * Math.cos(0.74973637733 + 746.3695797715 * t);
-        X0 += 0.00000003160 * Math.cos(2.01821245093 + 664.99569906519 * t);
-        X0 += 0.00000004060 * Math.cos(6.06087716530 + 51.87023394 * t);
-        X0 += 0.00000003107 * Math.cos(5.38240469077 + 28.9275001503 * t);
-        X0 += 0.00000003259 * Math.cos(5.62260974194 + 657.8821520644 * t);
-        X0 += 0.00000003428 * Math.cos(1.24133782529 + 2351.5322942751 * t);
-        X0 += 0.00000003235 * Math.cos(1.64692472660 + 406.3469551246 * t);
-        X0 += 0.00000003161 * Math.cos(5.69758725685 + 982.8720414301 * t);
-        X0 += 0.00000004351 * Math.cos(1.04662835997 + 20388.19423930069 * t);
-        X0 += 0.00000003384 * Math.cos(0.30649784029 + 660.851097481 * t);
-        X0 += 0.00000003452 * Math.cos(4.39659352485 + 326.1823604807 * t);
-        X0 += 0.00000003298 * Math.cos(0.15489069807 + 1403.84115801359 * t);
-        X0 += 0.00000003278 * Math.cos(3.68945780931 + 941.7700603757 * t);
-        X0 += 0.00000003723 * Math.cos(5.00962048402 + 451.9572360581 * t);
-        X0 += 0.00000003173 * Math.cos(5.46640783518 + 1400.87221259699 * t);
-        X0 += 0.00000004113 * Math.cos(1.87439213951 + 1049.31625271919 * t);
-        X0 += 0.00000004012 * Math.cos(2.15082049909 + 52.6039471229 * t);
-        X0 += 0.00000004142 * Math.cos(4.89782789900 + 978.6792557361 * t);
-        X0 += 0.00000004295 * Math.cos(1.37302733197 + 875.58648151749 * t);
-        X0 += 0.00000003224 * Math.cos(3.81995287471 + 459.1189671687 * t);
-        X0 += 0.00000003151 * Math.cos(3.69005421605 + 381.8560581518 * t);
-        X0 += 0.00000003633 * Math.cos(1.38559724652 + 256.78375799 * t);
-        X0 += 0.00000004250 * Math.cos(0.10595516218 + 528.71094230071 * t);
-        X0 += 0.00000004186 * Math.cos(2.09187651842 + 943.25453308399 * t);
-        X0 += 0.00000003406 * Math.cos(0.25126866750 + 170.46882419179 * t);
-        X0 += 0.00000003231 * Math.cos(4.61367643853 + 400.8209466961 * t);
-        X0 += 0.00000003726 * Math.cos(0.55318715397 + 1096.48675892331 * t);
-        X0 += 0.00000003792 * Math.cos(0.75464081409 + 111.9346114112 * t);
-        X0 += 0.00000003651 * Math.cos(4.56933341620 + 154.42718908179 * t);
-        X0 += 0.00000003839 * Math.cos(2.45649426115 + 10060.50958617629 * t);
-        X0 += 0.00000003356 * Math.cos(0.62546125542 + 1586.34776735071 * t);
-        X0 += 0.00000003219 * Math.cos(5.97786590701 + 213.7096692603 * t);
-        X0 += 0.00000003671 * Math.cos(1.51743688101 + 57.6023740965 * t);
-        X0 += 0.00000004187 * Math.cos(0.29242250575 + 2772.54460848389 * t);
-        X0 += 0.00000002960 * Math.cos(2.20142019667 + 2461.7386154945 * t);
-        X0 += 0.00000003331 * Math.cos(0.81281655951 + 10133.80671203529 * t);
-        X0 += 0.00000003341 * Math.cos(1.17831577639 + 243.7659500508 * t);
-        X0 += 0.00000003466 * Math.cos(4.73891819304 + 1150.92455422949 * t);
-        X0 += 0.00000003296 * Math.cos(3.49817757911 + 1653.78881638109 * t);
-        X0 += 0.00000003014 * Math.cos(1.90092216670 + 1477.3989163035 * t);
-        X0 += 0.00000004118 * Math.cos(2.83150543771 + 25596.5890296009 * t);
-        X0 += 0.00000002951 * Math.cos(5.04298380276 + 42.78208713641 * t);
-        X0 += 0.00000002951 * Math.cos(5.58078877076 + 33.9716191062 * t);
-        X0 += 0.00000003830 * Math.cos(4.59720174528 + 323.48860171 * t);
-        X0 += 0.00000003313 * Math.cos(1.64840054600 + 939.1099314998 * t);
-        X0 += 0.00000003031 * Math.cos(2.75126158832 + 156450.90896068608 * t);
-        X0 += 0.00000003606 * Math.cos(3.92819651217 + 1082.2596649217 * t);
-        X0 += 0.00000002967 * Math.cos(0.01380556143 + 6.3941566378 * t);
-        X0 += 0.00000002995 * Math.cos(3.55729257964 + 139.7099679857 * t);
-        X0 += 0.00000003251 * Math.cos(3.50186784018 + 709.29362807231 * t);
-        X0 += 0.00000003480 * Math.cos(0.61716473120 + 518.1408149163 * t);
-        X0 += 0.00000003906 * Math.cos(2.84871380483 + 1119.90506559249 * t);
-        X0 += 0.00000003406 * Math.cos(1.85522558472 + 148.79811478929 * t);
-        X0 += 0.00000003359 * Math.cos(1.74239209634 + 642.8494167832 * t);
-        X0 += 0.00000003027 * Math.cos(0.29741383095 + 184.0078969928 * t);
-        X0 += 0.00000002918 * Math.cos(2.25866029656 + 83.6234357599 * t);
-        X0 += 0.00000003347 * Math.cos(6.10666820526 + 217.68751450571 * t);
-        X0 += 0.00000003277 * Math.cos(0.27333269638 + 912.5438609877 * t);
-        X0 += 0.00000003277 * Math.cos(0.27333269638 + 913.03149595471 * t);
-        X0 += 0.00000003196 * Math.cos(5.84286985933 + 363.1061100561 * t);
-        X0 += 0.00000002869 * Math.cos(4.50334436600 + 285.35556607221 * t);
-        X0 += 0.00000003158 * Math.cos(1.18152957041 + 540.01727499551 * t);
-        X0 += 0.00000002810 * Math.cos(5.14802919795 + 1592.2856581839 * t);
-        X0 += 0.00000003471 * Math.cos(6.13160952457 + 144.39038864671 * t);
-        X0 += 0.00000003159 * Math.cos(4.14451339136 + 197.5561595657 * t);
-        X0 += 0.00000003227 * Math.cos(5.73841253304 + 6203.5970158157 * t);
-        X0 += 0.00000003750 * Math.cos(5.81139240481 + 303.35724676999 * t);
-        X0 += 0.00000003848 * Math.cos(3.38110828764 + 26048.04181574459 * t);
-        X0 += 0.00000002741 * Math.cos(1.70084306406 + 70.8326303568 * t);
-        X0 += 0.00000002826 * Math.cos(2.07742210458 + 460.2946233363 * t);
-        X0 += 0.00000002748 * Math.cos(0.98378370701 + 600.52359545141 * t);
-        X0 += 0.00000003057 * Math.cos(6.13629771077 + 23.81969071961 * t);
-        X0 += 0.00000003057 * Math.cos(1.34588220916 + 52.934015523 * t);
-        X0 += 0.00000003446 * Math.cos(3.54046646150 + 500.1391342185 * t);
-        X0 += 0.00000002703 * Math.cos(4.69192633180 + 908.0904428628 * t);
-        X0 += 0.00000002817 * Math.cos(3.26718539283 + 210.6221516147 * t);
-        X0 += 0.00000002848 * Math.cos(5.88127781412 + 450.4727633498 * t);
-        X0 += 0.00000002724 * Math.cos(0.93671586048 + 23.18655127321 * t);
-        X0 += 0.00000002905 * Math.cos(5.85039527890 + 149.3193796511 * t);
-        X0 += 0.00000002848 * Math.cos(6.20081143930 + 622.66987773339 * t);
-        X0 += 0.00000002733 * Math.cos(3.50715759295 + 262.72164882321 * t);
-        X0 += 0.00000002863 * Math.cos(0.69834580836 + 175.57663362249 * t);
-        X0 += 0.00000002681 * Math.cos(1.11809511751 + 25.1922888433 * t);
-        X0 += 0.00000002822 * Math.cos(1.57963221264 + 259.7527034066 * t);
-        X0 += 0.00000003174 * Math.cos(6.18541771069 + 347.1193567003 * t);
-        X0 += 0.00000003271 * Math.cos(1.40248413653 + 458.5977023069 * t);
-        X0 += 0.00000002894 * Math.cos(4.18128306427 + 71.82946809809 * t);
-        X0 += 0.00000003490 * Math.cos(2.85083291634 + 664.3713683394 * t);
-        X0 += 0.00000003506 * Math.cos(5.48691285949 + 771.3481117113 * t);
-        X0 += 0.00000003326 * Math.cos(2.12303698267 + 45.2297676912 * t);
-        X0 += 0.00000002988 * Math.cos(0.23324807191 + 299.37021175271 * t);
-        X0 += 0.00000002916 * Math.cos(3.60780287924 + 6642.8480002783 * t);
-        X0 += 0.00000002916 * Math.cos(0.46621022565 + 6643.3356352453 * t);
-        X0 += 0.00000002630 * Math.cos(1.12694509764 + 2751.79141717511 * t);
-        X0 += 0.00000002903 * Math.cos(4.31055308658 + 477.08701797169 * t);
-        X0 += 0.00000002804 * Math.cos(0.26456593020 + 6681.46867088311 * t);
-        X0 += 0.00000002622 * Math.cos(2.30179163581 + 521.8580277308 * t);
-        X0 += 0.00000002606 * Math.cos(6.15707729666 + 410.8552550037 * t);
-        X0 += 0.00000003046 * Math.cos(2.36386768037 + 959.45373476091 * t);
-        X0 += 0.00000003127 * Math.cos(3.04512463308 + 225.5518210319 * t);
-        X0 += 0.00000002700 * Math.cos(4.45467896965 + 963.6465204549 * t);
-        X0 += 0.00000002778 * Math.cos(1.65860124839 + 238.39750818919 * t);
-        X0 += 0.00000003029 * Math.cos(4.72630934575 + 473.2185551834 * t);
-        X0 += 0.00000002671 * Math.cos(4.60029996028 + 531.9405201482 * t);
-        X0 += 0.00000002914 * Math.cos(3.86169076602 + 554.31380496631 * t);
-        X0 += 0.00000003087 * Math.cos(6.08851917121 + 340.2664421304 * t);
-        X0 += 0.00000003438 * Math.cos(2.32466413132 + 6171.40187101109 * t);
-        X0 += 0.00000002879 * Math.cos(5.61809470376 + 218.6507223522 * t);
-        X0 += 0.00000003140 * Math.cos(5.02001385281 + 609.1216151605 * t);
-        X0 += 0.00000003003 * Math.cos(0.53592571188 + 464.97504399731 * t);
-        X0 += 0.00000003257 * Math.cos(1.52476284257 + 305.96249389171 * t);
-        X0 += 0.00000003211 * Math.cos(5.64833047248 + 416.532513406 * t);
-        X0 += 0.00000003265 * Math.cos(1.54950325507 + 24.7347144563 * t);
-        X0 += 0.00000002644 * Math.cos(1.01963899758 + 508.5941415757 * t);
-        X0 += 0.00000002764 * Math.cos(4.98225869197 + 410.59462257279 * t);
-        X0 += 0.00000003428 * Math.cos(5.71088563789 + 1012.6195056799 * t);
-        X0 += 0.00000002614 * Math.cos(4.07639961382 + 213.5910970313 * t);
-        X0 += 0.00000003469 * Math.cos(5.28643352424 + 24.14975911971 * t);
-        X0 += 0.00000002606 * Math.cos(0.81160096517 + 213.4947288117 * t);
-        X0 += 0.00000003444 * Math.cos(2.56432157215 + 891.57323487331 * t);
-        X0 += 0.00000002540 * Math.cos(4.32167771768 + 564.8718702632 * t);
-        X0 += 0.00000002540 * Math.cos(4.32167771768 + 565.35950523021 * t);
-        X0 += 0.00000002754 * Math.cos(2.69535555411 + 57.5541899867 * t);
-        X0 += 0.00000002531 * Math.cos(0.59020723407 + 800.5924346291 * t);
-        X0 += 0.00000002557 * Math.cos(0.66999256840 + 341.49028240779 * t);
-        X0 += 0.00000002601 * Math.cos(4.54885591305 + 261.2371761149 * t);
-        X0 += 0.00000003027 * Math.cos(0.20183300410 + 331.07772159029 * t);
-        X0 += 0.00000002494 * Math.cos(0.58142193078 + 203.9816853659 * t);
-        X0 += 0.00000002590 * Math.cos(1.76325981719 + 1190.5420625756 * t);
-        X0 += 0.00000003494 * Math.cos(2.90876238684 + 534.0793841623 * t);
-        X0 += 0.00000003144 * Math.cos(0.01981710217 + 1503.9649868156 * t);
-        X0 += 0.00000002818 * Math.cos(3.61898449244 + 49.31067880061 * t);
-        X0 += 0.00000002791 * Math.cos(4.48606671949 + 288.32451148881 * t);
-        X0 += 0.00000002471 * Math.cos(1.23009614301 + 411.11588743459 * t);
-        X0 += 0.00000003059 * Math.cos(3.30977686438 + 172.48911597691 * t);
-        X0 += 0.00000002972 * Math.cos(0.30229231666 + 569.29165849331 * t);
-        X0 += 0.00000003418 * Math.cos(5.40293550246 + 638.3959986583 * t);
-        X0 += 0.00000002541 * Math.cos(4.99016167757 + 1448.09090291091 * t);
-        X0 += 0.00000002663 * Math.cos(0.43151826022 + 573.6968925084 * t);
-        X0 += 0.00000002439 * Math.cos(4.39632185677 + 1625.9652756968 * t);
-        X0 += 0.00000002739 * Math.cos(5.72535305895 + 112.8832650427 * t);
-        X0 += 0.00000002821 * Math.cos(5.66863744979 + 402.93606672331 * t);
-        X0 += 0.00000003412 * Math.cos(1.27007980380 + 772.8325844196 * t);
-        X0 += 0.00000002624 * Math.cos(5.85528852490 + 1624.4808029885 * t);
-        X0 += 0.00000003170 * Math.cos(0.53682796950 + 1011.13503297159 * t);
-        X0 += 0.00000002908 * Math.cos(4.60949958082 + 635.94831810351 * t);
-        X0 += 0.00000002664 * Math.cos(2.68003479349 + 409.41896640519 * t);
-        X0 += 0.00000003091 * Math.cos(1.88245278611 + 379.25961975071 * t);
-        X0 += 0.00000003301 * Math.cos(1.91350932819 + 19.7936613644 * t);
-        X0 += 0.00000003176 * Math.cos(3.29730129609 + 300.9095662152 * t);
-        X0 += 0.00000003022 * Math.cos(5.94822554077 + 52.0189917863 * t);
-        X0 += 0.00000002890 * Math.cos(1.53549747897 + 293.4323209195 * t);
-        X0 += 0.00000002698 * Math.cos(1.69370735844 + 78149.06650032569 * t);
-        X0 += 0.00000002558 * Math.cos(0.74578099458 + 1371.3371966683 * t);
-        X0 += 0.00000002619 * Math.cos(3.80578981072 + 202.0095776906 * t);
-        X0 += 0.00000003176 * Math.cos(3.75055063339 + 10101.61156723069 * t);
-        X0 += 0.00000003341 * Math.cos(2.34080319182 + 345.8955164229 * t);
-        X0 += 0.00000002373 * Math.cos(4.96475711609 + 130.8513158457 * t);
-        X0 += 0.00000002644 * Math.cos(2.68099240015 + 305.10235190919 * t);
-        X0 += 0.00000003339 * Math.cos(4.63303989765 + 2849.2983147265 * t);
-        X0 += 0.00000002410 * Math.cos(1.58163612779 + 951.8525527931 * t);
-        X0 += 0.00000003303 * Math.cos(2.25771292490 + 769.5729459921 * t);
-        X0 += 0.00000003302 * Math.cos(4.85894681967 + 90.1520274241 * t);
-        X0 += 0.00000002416 * Math.cos(6.00635580174 + 527.929045008 * t);
-        X0 += 0.00000002361 * Math.cos(5.34789183737 + 905.1214974462 * t);
-        X0 += 0.00000002737 * Math.cos(4.77190944455 + 1206.2199993907 * t);
-        X0 += 0.00000002441 * Math.cos(3.82975575752 + 246.73489546739 * t);
-        X0 += 0.00000002441 * Math.cos(0.68816310393 + 247.2225304344 * t);
-        X0 += 0.00000002957 * Math.cos(4.25832811500 + 238.23075185041 * t);
-        X0 += 0.00000003263 * Math.cos(0.98630889937 + 1506.93393223219 * t);
-        X0 += 0.00000003293 * Math.cos(5.93270574395 + 66.1522096958 * t);
-        X0 += 0.00000003241 * Math.cos(3.43806050184 + 978.4186233052 * t);
-        X0 += 0.00000003149 * Math.cos(3.64971867049 + 271.9103693633 * t);
-        X0 += 0.00000003149 * Math.cos(3.64971867050 + 271.4227343963 * t);
-        X0 += 0.00000002328 * Math.cos(5.07609916236 + 31.73887900 * t);
-        X0 += 0.00000002372 * Math.cos(0.68652074740 + 309.0345051723 * t);
-        X0 += 0.00000002372 * Math.cos(3.82811340099 + 309.5221401393 * t);
-        X0 += 0.00000002369 * Math.cos(4.33012817739 + 418.9801939608 * t);
-        X0 += 0.00000003007 * Math.cos(4.64009260533 + 1437.7814079574 * t);
-        X0 += 0.00000003034 * Math.cos(5.98346126252 + 330.8627811417 * t);
-        X0 += 0.00000002345 * Math.cos(2.80677153952 + 453.9318358609 * t);
-        X0 += 0.00000003118 * Math.cos(3.73398781358 + 1434.81246254079 * t);
-        X0 += 0.00000002324 * Math.cos(3.85931736808 + 495.2462652364 * t);
-        X0 += 0.00000002340 * Math.cos(5.41992470939 + 452.43031681009 * t);
-        X0 += 0.00000002336 * Math.cos(0.04655833240 + 189.591279303 * t);
-        X0 += 0.00000002920 * Math.cos(3.78758562864 + 1549.69920442121 * t);
-        X0 += 0.00000002494 * Math.cos(0.79353025531 + 1187.57311715899 * t);
-        X0 += 0.00000002692 * Math.cos(4.17807622816 + 425.13053311509 * t);
-        X0 += 0.00000002874 * Math.cos(4.63267401857 + 1654.2764513481 * t);
-        X0 += 0.00000002809 * Math.cos(5.67077170621 + 317.5843407716 * t);
-        X0 += 0.00000002735 * Math.cos(3.93990204220 + 1513.05064149171 * t);
-        X0 += 0.00000002949 * Math.cos(6.26993364897 + 186.71620997851 * t);
-        X0 += 0.00000002320 * Math.cos(0.74326897219 + 487.38195871019 * t);
-        X0 += 0.00000003113 * Math.cos(6.20902109610 + 353.28425006961 * t);
-        X0 += 0.00000003086 * Math.cos(4.87476303199 + 1230.5990217789 * t);
-        X0 += 0.00000002722 * Math.cos(2.16494792915 + 49.6831858161 * t);
-        X0 += 0.00000003064 * Math.cos(3.68765217385 + 133.13224006171 * t);
-        X0 += 0.00000003064 * Math.cos(3.68765217385 + 132.64460509469 * t);
-        X0 += 0.00000002470 * Math.cos(2.78243316001 + 532.3824631329 * t);
-        X0 += 0.00000002640 * Math.cos(0.51790972890 + 394.33804701421 * t);
-        X0 += 0.00000002252 * Math.cos(1.84613004390 + 22.6507321964 * t);
-        X0 += 0.00000003151 * Math.cos(5.26039361613 + 859.77184894361 * t);
-        X0 += 0.00000002671 * Math.cos(0.92145640556 + 37.3679532925 * t);
-        X0 += 0.00000002380 * Math.cos(0.86687455354 + 429.2751346993 * t);
-        X0 += 0.00000002655 * Math.cos(2.72088152594 + 484.1523808627 * t);
-        X0 += 0.00000003005 * Math.cos(3.02367934874 + 1929.33933741419 * t);
-        X0 += 0.00000002550 * Math.cos(5.60497907633 + 496.9431862658 * t);
-        X0 += 0.00000002290 * Math.cos(3.41120190653 + 455.18681390559 * t);
-        X0 += 0.00000002608 * Math.cos(3.85525903926 + 422.9580392062 * t);
-        X0 += 0.00000002226 * Math.cos(2.09977531258 + 47.82620609231 * t);
-        X0 += 0.00000002233 * Math.cos(4.94028872789 + 877.3461408717 * t);
-        X0 += 0.00000002764 * Math.cos(0.83501700112 + 356.68058425589 * t);
-        X0 += 0.00000002719 * Math.cos(1.98953734068 + 177.5823711926 * t);
-        X0 += 0.00000002999 * Math.cos(2.06885612973 + 1926.37039199759 * t);
-        X0 += 0.00000002693 * Math.cos(3.57972778548 + 6284.8041401832 * t);
-        X0 += 0.00000002369 * Math.cos(1.19578023344 + 70.88081446661 * t);
-        X0 += 0.00000002498 * Math.cos(3.71851216671 + 315.1512144318 * t);
-        X0 += 0.00000002204 * Math.cos(3.20466206592 + 442.886135597 * t);
-        X0 += 0.00000002261 * Math.cos(3.32534753019 + 621.2335891349 * t);
-        X0 += 0.00000002213 * Math.cos(6.16263836668 + 1189.0575898673 * t);
-        X0 += 0.00000002492 * Math.cos(2.67366070604 + 406.9712858504 * t);
-        X0 += 0.00000002976 * Math.cos(1.45402284302 + 1014.1039783882 * t);
-        X0 += 0.00000002840 * Math.cos(5.35710509350 + 522.3336006103 * t);
-        X0 += 0.00000002340 * Math.cos(1.72448626630 + 440.43845504219 * t);
-        X0 += 0.00000003012 * Math.cos(1.13512104183 + 15.9096922111 * t);
-        X0 += 0.00000003012 * Math.cos(4.27671369542 + 16.3973271781 * t);
-        X0 += 0.00000002372 * Math.cos(0.24227395275 + 132.5964209849 * t);
-        X0 += 0.00000002232 * Math.cos(2.42168492591 + 158.12984768129 * t);
-        X0 += 0.00000002961 * Math.cos(4.37134416172 + 286.3524038135 * t);
-        X0 += 0.00000002961 * Math.cos(4.37134416172 + 286.8400387805 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 342 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.00357822049 * Math.cos(4.60537437341 + 0.2438174835 * t);
-        X1 += 0.00256200629 * Math.cos(2.01693264233 + 36.892380413 * t);
-        X1 += 0.00242677799 * Math.cos(5.46293481092 + 39.86132582961 * t);
-        X1 += 0.00106073143 * Math.cos(3.07856435709 + 37.88921815429 * t);
-        X1 += 0.00103735195 * Math.cos(6.08270773807 + 38.3768531213 * t);
-        X1 += 0.00118508231 * Math.cos(2.88623136735 + 76.50988875911 * t);
-        X1 += 0.00021930692 * Math.cos(3.20019569049 + 35.40790770471 * t);
-        X1 += 0.00017445772 * Math.cos(4.26396070854 + 41.3457985379 * t);
-        X1 += 0.00013038843 * Math.cos(5.36684741537 + 3.21276290011 * t);
-        X1 += 0.00004928885 * Math.cos(2.08893204170 + 73.5409433425 * t);
-        X1 += 0.00002742686 * Math.cos(4.06389633495 + 77.9943614674 * t);
-        X1 += 0.00002155134 * Math.cos(4.11881068429 + 4.6972356084 * t);
-        X1 += 0.00001882800 * Math.cos(4.42038284259 + 33.9234349964 * t);
-        X1 += 0.00001572888 * Math.cos(1.07810551784 + 114.6429243969 * t);
-        X1 += 0.00001326507 * Math.cos(6.02985868883 + 75.0254160508 * t);
-        X1 += 0.00001343094 * Math.cos(3.03838214796 + 42.83027124621 * t);
-        X1 += 0.00000897979 * Math.cos(4.26993024752 + 426.8420083595 * t);
-        X1 += 0.00000865617 * Math.cos(1.66618456177 + 37.8555882595 * t);
-        X1 += 0.00000849963 * Math.cos(5.81599535394 + 38.89811798311 * t);
-        X1 += 0.00000922754 * Math.cos(3.34516686314 + 72.05647063421 * t);
-        X1 += 0.00000726258 * Math.cos(4.24833812431 + 36.404745446 * t);
-        X1 += 0.00000778220 * Math.cos(5.84479856092 + 206.42936592071 * t);
-        X1 += 0.00000754025 * Math.cos(5.33205816073 + 220.6564599223 * t);
-        X1 += 0.00000607406 * Math.cos(0.10576615596 + 1059.6257476727 * t);
-        X1 += 0.00000571831 * Math.cos(2.42930874906 + 522.8212355773 * t);
-        X1 += 0.00000560995 * Math.cos(1.91555986158 + 537.0483295789 * t);
-        X1 += 0.00000501078 * Math.cos(1.71335109406 + 28.81562556571 * t);
-        X1 += 0.00000493238 * Math.cos(5.24702261334 + 39.3736908626 * t);
-        X1 += 0.00000474802 * Math.cos(4.40715596351 + 98.6561710411 * t);
-        X1 += 0.00000453975 * Math.cos(1.71443209341 + 35.9291725665 * t);
-        X1 += 0.00000471731 * Math.cos(4.84217171915 + 1.7282901918 * t);
-        X1 += 0.00000410057 * Math.cos(5.76579953705 + 40.8245336761 * t);
-        X1 += 0.00000366899 * Math.cos(5.76755572930 + 47.9380806769 * t);
-        X1 += 0.00000450109 * Math.cos(1.25670451550 + 76.0222537921 * t);
-        X1 += 0.00000354347 * Math.cos(6.27109348494 + 1.24065522479 * t);
-        X1 += 0.00000300159 * Math.cos(2.88687992256 + 6.1817083167 * t);
-        X1 += 0.00000327501 * Math.cos(4.20479564636 + 33.43580002939 * t);
-        X1 += 0.00000174973 * Math.cos(5.64027558321 + 32.4389622881 * t);
-        X1 += 0.00000171503 * Math.cos(4.43985554308 + 34.1840674273 * t);
-        X1 += 0.00000156749 * Math.cos(2.59545084410 + 79.47883417571 * t);
-        X1 += 0.00000152549 * Math.cos(0.58219894744 + 30.300098274 * t);
-        X1 += 0.00000150775 * Math.cos(3.03954929901 + 42.5696388153 * t);
-        X1 += 0.00000162280 * Math.cos(0.79977049351 + 31.2633061205 * t);
-        X1 += 0.00000131609 * Math.cos(1.62895622934 + 7.83293736379 * t);
-        X1 += 0.00000136159 * Math.cos(4.57878446789 + 70.5719979259 * t);
-        X1 += 0.00000134616 * Math.cos(0.39184091634 + 45.49040012211 * t);
-        X1 += 0.00000116304 * Math.cos(0.61710594601 + 46.4536079686 * t);
-        X1 += 0.00000115918 * Math.cos(1.81843338530 + 44.31474395451 * t);
-        X1 += 0.00000110293 * Math.cos(6.26561089969 + 35.4560918145 * t);
-        X1 += 0.00000099282 * Math.cos(5.06218386285 + 2.7251279331 * t);
-        X1 += 0.00000099914 * Math.cos(1.21626942611 + 41.2976144281 * t);
-        X1 += 0.00000108706 * Math.cos(3.09142093314 + 113.15845168861 * t);
-        X1 += 0.00000088965 * Math.cos(4.26680850699 + 60.52313540329 * t);
-        X1 += 0.00000086886 * Math.cos(5.46872067794 + 31.9513273211 * t);
-        X1 += 0.00000072232 * Math.cos(3.50587405737 + 640.1411037975 * t);
-        X1 += 0.00000086985 * Math.cos(4.80098575405 + 419.72846135871 * t);
-        X1 += 0.00000073430 * Math.cos(4.36511226727 + 70.08436295889 * t);
-        X1 += 0.00000053395 * Math.cos(4.46520807878 + 433.9555553603 * t);
-        X1 += 0.00000057451 * Math.cos(1.08003733120 + 213.5429129215 * t);
-        X1 += 0.00000051458 * Math.cos(4.01726374522 + 69.3963417583 * t);
-        X1 += 0.00000048797 * Math.cos(6.01365170443 + 111.67397898031 * t);
-        X1 += 0.00000048557 * Math.cos(6.24808481100 + 2.6769438233 * t);
-        X1 += 0.00000042206 * Math.cos(3.23823062186 + 74.53778108379 * t);
-        X1 += 0.00000042550 * Math.cos(1.67247318349 + 7.66618102501 * t);
-        X1 += 0.00000039462 * Math.cos(5.84051041865 + 31.7845709823 * t);
-        X1 += 0.00000039445 * Math.cos(0.94630986910 + 12.77399045571 * t);
-        X1 += 0.00000042389 * Math.cos(5.59019905902 + 110.189506272 * t);
-        X1 += 0.00000044118 * Math.cos(0.44615133445 + 1589.3167127673 * t);
-        X1 += 0.00000037988 * Math.cos(2.73850879415 + 6.3484646555 * t);
-        X1 += 0.00000037802 * Math.cos(5.98781130211 + 14.258463164 * t);
-        X1 += 0.00000036280 * Math.cos(6.27894536142 + 273.8222308413 * t);
-        X1 += 0.00000037247 * Math.cos(4.62968774107 + 73.0533083755 * t);
-        X1 += 0.00000036282 * Math.cos(2.85336450932 + 84.5866436064 * t);
-        X1 += 0.00000040018 * Math.cos(4.27418471085 + 4.4366031775 * t);
-        X1 += 0.00000032400 * Math.cos(1.64328879813 + 44.96913526031 * t);
-        X1 += 0.00000031842 * Math.cos(5.16652228087 + 34.9202727377 * t);
-        X1 += 0.00000032037 * Math.cos(2.94551844856 + 27.3311528574 * t);
-        X1 += 0.00000034456 * Math.cos(3.37152599360 + 529.9347825781 * t);
-        X1 += 0.00000031208 * Math.cos(1.73420111381 + 1052.51220067191 * t);
-        X1 += 0.00000030002 * Math.cos(2.33639558082 + 1066.7392946735 * t);
-        X1 += 0.00000033805 * Math.cos(6.04114496470 + 149.8070146181 * t);
-        X1 += 0.00000033096 * Math.cos(2.45794089359 + 116.12739710521 * t);
-        X1 += 0.00000030571 * Math.cos(4.02151161164 + 22.3900997655 * t);
-        X1 += 0.00000024020 * Math.cos(0.23821463973 + 63.9797157869 * t);
-        X1 += 0.00000023780 * Math.cos(4.34619784366 + 105.76971804189 * t);
-        X1 += 0.00000023110 * Math.cos(2.51348904373 + 23.87457247379 * t);
-        X1 += 0.00000022233 * Math.cos(1.21582777350 + 174.9222423167 * t);
-        X1 += 0.00000021377 * Math.cos(3.74139728076 + 316.6356871401 * t);
-        X1 += 0.00000025400 * Math.cos(4.52702077197 + 106.73292588839 * t);
-        X1 += 0.00000020754 * Math.cos(0.94473828111 + 5.6604434549 * t);
-        X1 += 0.00000025572 * Math.cos(5.46068636869 + 529.44714761109 * t);
-        X1 += 0.00000019878 * Math.cos(1.01805940417 + 32.9602271499 * t);
-        X1 += 0.00000019754 * Math.cos(4.49000124955 + 49.42255338521 * t);
-        X1 += 0.00000019241 * Math.cos(6.01413524726 + 7.14491616321 * t);
-        X1 += 0.00000017979 * Math.cos(1.48478132886 + 62.4952430786 * t);
-        X1 += 0.00000019513 * Math.cos(5.64767624982 + 68.5998902506 * t);
-        X1 += 0.00000018273 * Math.cos(5.20130356006 + 227.77000692311 * t);
-        X1 += 0.00000017552 * Math.cos(5.80350239388 + 69.0875252176 * t);
-        X1 += 0.00000016704 * Math.cos(3.94483252805 + 40.8581635709 * t);
-        X1 += 0.00000016996 * Math.cos(1.10449263633 + 91.54262404029 * t);
-        X1 += 0.00000016800 * Math.cos(0.51632981099 + 30.4668546128 * t);
-        X1 += 0.00000016800 * Math.cos(0.51632981099 + 30.95448957981 * t);
-        X1 += 0.00000016400 * Math.cos(5.02426208775 + 33.26904369061 * t);
-        X1 += 0.00000017242 * Math.cos(0.18352088447 + 11.55015017831 * t);
-        X1 += 0.00000015590 * Math.cos(1.99260946960 + 37.1048287341 * t);
-        X1 += 0.00000015590 * Math.cos(5.48957045033 + 39.6488775085 * t);
-        X1 += 0.00000015469 * Math.cos(0.19931591320 + 43.79347909271 * t);
-        X1 += 0.00000016590 * Math.cos(2.76837508684 + 33.71098667531 * t);
-        X1 += 0.00000019347 * Math.cos(5.63498287914 + 152.77596003471 * t);
-        X1 += 0.00000014994 * Math.cos(2.71995630411 + 319.06881347989 * t);
-        X1 += 0.00000014395 * Math.cos(0.95950619453 + 110.45013870291 * t);
-        X1 += 0.00000015528 * Math.cos(1.16348592635 + 79.43065006591 * t);
-        X1 += 0.00000013727 * Math.cos(2.45811249773 + 43.484662552 * t);
-        X1 += 0.00000013988 * Math.cos(3.96979676090 + 4.2096006414 * t);
-        X1 += 0.00000014467 * Math.cos(0.42164709009 + 108.70503356371 * t);
-        X1 += 0.00000016652 * Math.cos(3.17617180933 + 304.84171947829 * t);
-        X1 += 0.00000015153 * Math.cos(3.21783791411 + 72.31710306511 * t);
-        X1 += 0.00000012810 * Math.cos(2.37864271463 + 11.2895177474 * t);
-        X1 += 0.00000012751 * Math.cos(0.61424962834 + 45.7992166628 * t);
-        X1 += 0.00000013293 * Math.cos(4.71511827202 + 43.0427195673 * t);
-        X1 += 0.00000012751 * Math.cos(2.55685741962 + 515.70768857651 * t);
-        X1 += 0.00000011616 * Math.cos(2.50185569269 + 97.17169833279 * t);
-        X1 += 0.00000011538 * Math.cos(6.20327139591 + 633.0275567967 * t);
-        X1 += 0.00000011046 * Math.cos(1.26188662646 + 25.8466801491 * t);
-        X1 += 0.00000011032 * Math.cos(3.82567311622 + 4.8639919472 * t);
-        X1 += 0.00000011189 * Math.cos(3.94939417077 + 83.1021708981 * t);
-        X1 += 0.00000010860 * Math.cos(0.38739756984 + 9.8050450391 * t);
-        X1 += 0.00000010958 * Math.cos(1.48375898962 + 415.04804069769 * t);
-        X1 += 0.00000010244 * Math.cos(0.26615444717 + 71.09326278771 * t);
-        X1 += 0.00000011427 * Math.cos(1.50679043329 + 129.6756596781 * t);
-        X1 += 0.00000009895 * Math.cos(5.62468142972 + 251.6759485593 * t);
-        X1 += 0.00000009802 * Math.cos(1.83814841533 + 44.48150029329 * t);
-        X1 += 0.00000011029 * Math.cos(4.69741395112 + 143.38148881789 * t);
-        X1 += 0.00000009235 * Math.cos(5.99370019321 + 199.3158189199 * t);
-        X1 += 0.00000008899 * Math.cos(3.54958918415 + 7.3573644843 * t);
-        X1 += 0.00000007746 * Math.cos(5.89688581764 + 103.3365917021 * t);
-        X1 += 0.00000008691 * Math.cos(3.86130807292 + 32.7477788288 * t);
-        X1 += 0.00000007714 * Math.cos(5.08136079606 + 65.46418849521 * t);
-        X1 += 0.00000008007 * Math.cos(1.80952555463 + 544.1618765797 * t);
-        X1 += 0.00000007513 * Math.cos(1.47497152514 + 69.6087900794 * t);
-        X1 += 0.00000007336 * Math.cos(5.00489054996 + 15.7429358723 * t);
-        X1 += 0.00000007195 * Math.cos(6.14029832936 + 949.4194264533 * t);
-        X1 += 0.00000009601 * Math.cos(0.96952505042 + 80.963306884 * t);
-        X1 += 0.00000008094 * Math.cos(3.27383873772 + 526.7533888404 * t);
-        X1 += 0.00000008109 * Math.cos(1.06293290956 + 533.1161763158 * t);
-        X1 += 0.00000006906 * Math.cos(5.27751864757 + 137.2768416459 * t);
-        X1 += 0.00000007455 * Math.cos(5.82601593331 + 105.2484531801 * t);
-        X1 += 0.00000007826 * Math.cos(4.02401038086 + 77.0311536209 * t);
-        X1 += 0.00000006529 * Math.cos(0.86598314454 + 65.2035560643 * t);
-        X1 += 0.00000007134 * Math.cos(3.62090018772 + 44.00592741381 * t);
-        X1 += 0.00000006186 * Math.cos(2.42103444520 + 31.4757544416 * t);
-        X1 += 0.00000006186 * Math.cos(2.42103444520 + 30.9881194746 * t);
-        X1 += 0.00000007698 * Math.cos(0.17876132177 + 14.47091148511 * t);
-        X1 += 0.00000007434 * Math.cos(5.53413189412 + 146.8380692015 * t);
-        X1 += 0.00000006317 * Math.cos(0.53538901275 + 66.9486612035 * t);
-        X1 += 0.00000006903 * Math.cos(6.20818943193 + 75.98862389731 * t);
-        X1 += 0.00000005591 * Math.cos(1.90701487438 + 448.98829064149 * t);
-        X1 += 0.00000006425 * Math.cos(5.04706195455 + 678.27413943531 * t);
-        X1 += 0.00000005483 * Math.cos(3.18327336885 + 34.44469985821 * t);
-        X1 += 0.00000005483 * Math.cos(4.29890655108 + 42.3090063844 * t);
-        X1 += 0.00000005519 * Math.cos(2.84195707915 + 853.4401992355 * t);
-        X1 += 0.00000005483 * Math.cos(3.53790147295 + 100.14064374939 * t);
-        X1 += 0.00000005483 * Math.cos(3.53790147295 + 100.6282787164 * t);
-        X1 += 0.00000006288 * Math.cos(1.03240051727 + 143.9027536797 * t);
-        X1 += 0.00000006239 * Math.cos(5.78066710550 + 17.76992530181 * t);
-        X1 += 0.00000005246 * Math.cos(5.09114965169 + 209.6107596584 * t);
-        X1 += 0.00000005331 * Math.cos(3.26471064810 + 45.9659730016 * t);
-        X1 += 0.00000005131 * Math.cos(6.10583196953 + 217.4750661846 * t);
-        X1 += 0.00000005325 * Math.cos(4.39759756568 + 19.2543980101 * t);
-        X1 += 0.00000005172 * Math.cos(0.86928942503 + 25.3590451821 * t);
-        X1 += 0.00000005139 * Math.cos(2.60427452606 + 6.86972951729 * t);
-        X1 += 0.00000005992 * Math.cos(1.19287924990 + 9.3174100721 * t);
-        X1 += 0.00000005011 * Math.cos(3.34804654196 + 38.85242600079 * t);
-        X1 += 0.00000004975 * Math.cos(1.43964900757 + 525.2543619171 * t);
-        X1 += 0.00000004910 * Math.cos(5.04787040559 + 45.277951801 * t);
-        X1 += 0.00000005250 * Math.cos(4.87798510402 + 0.719390363 * t);
-        X1 += 0.00000004731 * Math.cos(1.56230403811 + 40.3825906914 * t);
-        X1 += 0.00000004731 * Math.cos(2.77828322823 + 36.3711155512 * t);
-        X1 += 0.00000005910 * Math.cos(6.11804979728 + 6168.43292559449 * t);
-        X1 += 0.00000004700 * Math.cos(6.23394030506 + 50.9070260935 * t);
-        X1 += 0.00000005127 * Math.cos(0.06949696047 + 140.9338082631 * t);
-        X1 += 0.00000005321 * Math.cos(3.67018745291 + 1104.87233031131 * t);
-        X1 += 0.00000006339 * Math.cos(2.59865692618 + 10175.3963280567 * t);
-        X1 += 0.00000004983 * Math.cos(3.03193615352 + 1090.6452363097 * t);
-        X1 += 0.00000005487 * Math.cos(4.85218420019 + 180.03005174739 * t);
-        X1 += 0.00000004560 * Math.cos(3.95095239655 + 323.74923414091 * t);
-        X1 += 0.00000004689 * Math.cos(1.24271255508 + 1068.22376738181 * t);
-        X1 += 0.00000005562 * Math.cos(1.26401999292 + 10098.64262181409 * t);
-        X1 += 0.00000004432 * Math.cos(2.40638908148 + 415.7963080956 * t);
-        X1 += 0.00000004456 * Math.cos(6.17485306628 + 235.68919520349 * t);
-        X1 += 0.00000004289 * Math.cos(5.97528879519 + 1051.0277279636 * t);
-        X1 += 0.00000004145 * Math.cos(3.13378236518 + 33.6964324603 * t);
-        X1 += 0.00000004167 * Math.cos(1.72807331665 + 416.532513406 * t);
-        X1 += 0.00000004107 * Math.cos(2.49036069416 + 61.01077037031 * t);
-        X1 += 0.00000004088 * Math.cos(5.45739808026 + 423.66061462181 * t);
-        X1 += 0.00000005027 * Math.cos(4.43953537205 + 21.7020785649 * t);
-        X1 += 0.00000004030 * Math.cos(5.01269280095 + 216.72430665921 * t);
-        X1 += 0.00000004278 * Math.cos(4.65333719777 + 310.4707937708 * t);
-        X1 += 0.00000004013 * Math.cos(1.39689438468 + 104275.10267753768 * t);
-        X1 += 0.00000004505 * Math.cos(1.22507263591 + 291.9478482112 * t);
-        X1 += 0.00000003959 * Math.cos(6.18034607330 + 210.36151918381 * t);
-        X1 += 0.00000003962 * Math.cos(4.02082978591 + 978.93988816699 * t);
-        X1 += 0.00000005561 * Math.cos(1.74843583918 + 1409.47023230609 * t);
-        X1 += 0.00000005073 * Math.cos(3.58205424554 + 1498.3359125231 * t);
-        X1 += 0.00000004227 * Math.cos(1.48715312131 + 534.38820070301 * t);
-        X1 += 0.00000004054 * Math.cos(4.02884108627 + 430.02340209721 * t);
-        X1 += 0.00000003863 * Math.cos(2.24264031920 + 1127.50624756031 * t);
-        X1 += 0.00000004367 * Math.cos(1.71153359581 + 58.9837809408 * t);
-        X1 += 0.00000004694 * Math.cos(3.33961949377 + 77.5067265004 * t);
-        X1 += 0.00000004144 * Math.cos(3.59057653937 + 518.1408149163 * t);
-        X1 += 0.00000004289 * Math.cos(3.29776439152 + 921.3206991231 * t);
-        X1 += 0.00000004039 * Math.cos(3.79987840474 + 1622.76932774409 * t);
-        X1 += 0.00000005180 * Math.cos(5.37115331697 + 99.1438060081 * t);
-        X1 += 0.00000004845 * Math.cos(6.04321981604 + 136.78920667889 * t);
-        X1 += 0.00000004827 * Math.cos(2.78459346340 + 418.2439886504 * t);
-        X1 += 0.00000003722 * Math.cos(0.22932453326 + 1065.2548219652 * t);
-        X1 += 0.00000004729 * Math.cos(3.76762324044 + 421.212934067 * t);
-        X1 += 0.00000003490 * Math.cos(5.25995346649 + 986.8041946932 * t);
-        X1 += 0.00000003715 * Math.cos(6.02151166051 + 254.10907489909 * t);
-        X1 += 0.00000003488 * Math.cos(1.23861297869 + 187.9400502559 * t);
-        X1 += 0.00000003989 * Math.cos(3.79961685835 + 95.7354097343 * t);
-        X1 += 0.00000003603 * Math.cos(0.65230587403 + 67.1154175423 * t);
-        X1 += 0.00000003530 * Math.cos(2.51065807549 + 24.36220744081 * t);
-        X1 += 0.00000003538 * Math.cos(3.09031960755 + 57.4993082325 * t);
-        X1 += 0.00000003838 * Math.cos(1.99815683749 + 979.90309601349 * t);
-        X1 += 0.00000003615 * Math.cos(3.17553643085 + 493.2862196486 * t);
-        X1 += 0.00000003457 * Math.cos(0.22865254260 + 807.70598162989 * t);
-        X1 += 0.00000003648 * Math.cos(3.01000228275 + 647.25465079831 * t);
-        X1 += 0.00000004048 * Math.cos(4.68171378592 + 979.69064769239 * t);
-        X1 += 0.00000004414 * Math.cos(3.57495606042 + 1062.59469308931 * t);
-        X1 += 0.00000003631 * Math.cos(2.31921127570 + 486.1726726478 * t);
-        X1 += 0.00000003347 * Math.cos(5.70639780704 + 151.2914873264 * t);
-        X1 += 0.00000003305 * Math.cos(0.52158954660 + 1544.07013012871 * t);
-        X1 += 0.00000003428 * Math.cos(1.68792809396 + 107.2205608554 * t);
-        X1 += 0.00000003286 * Math.cos(5.12949558917 + 1131.6990332543 * t);
-        X1 += 0.00000003389 * Math.cos(1.65565102713 + 28.98238190449 * t);
-        X1 += 0.00000003353 * Math.cos(3.87388681549 + 10289.7954349701 * t);
-        X1 += 0.00000003214 * Math.cos(2.40799794941 + 569.5522909242 * t);
-        X1 += 0.00000003210 * Math.cos(5.76688710335 + 114.1552894299 * t);
-        X1 += 0.00000003353 * Math.cos(3.19692974184 + 157.8837694654 * t);
-        X1 += 0.00000003339 * Math.cos(3.69632773816 + 443.0985839181 * t);
-        X1 += 0.00000003188 * Math.cos(1.05807532391 + 361.13400238079 * t);
-        X1 += 0.00000003390 * Math.cos(0.82325646834 + 1558.2972241303 * t);
-        X1 += 0.00000003933 * Math.cos(0.51543027693 + 313.43973918739 * t);
-        X1 += 0.00000003131 * Math.cos(5.23811887945 + 275.3067035496 * t);
-        X1 += 0.00000003156 * Math.cos(4.66486358528 + 431.8404353331 * t);
-        X1 += 0.00000003993 * Math.cos(3.33001170426 + 67.6366824041 * t);
-        X1 += 0.00000003708 * Math.cos(1.81916567333 + 500.39976664941 * t);
-        X1 += 0.00000004051 * Math.cos(2.84746860357 + 59.038662695 * t);
-        X1 += 0.00000003757 * Math.cos(3.59917867608 + 296.4012663361 * t);
-        X1 += 0.00000003138 * Math.cos(5.35145867078 + 347.1193567003 * t);
-        X1 += 0.00000003086 * Math.cos(3.24315098824 + 392.9017584157 * t);
-        X1 += 0.00000003466 * Math.cos(0.02941146445 + 215.1941419686 * t);
-        X1 += 0.00000003139 * Math.cos(4.67079139650 + 159.36824217371 * t);
-        X1 += 0.00000003466 * Math.cos(1.90282193275 + 2145.34674583789 * t);
-        X1 += 0.00000003737 * Math.cos(1.95939265626 + 449.0364747513 * t);
-        X1 += 0.00000003286 * Math.cos(3.39700619187 + 435.44002806861 * t);
-        X1 += 0.00000003043 * Math.cos(3.45909355839 + 2.20386307129 * t);
-        X1 += 0.00000003999 * Math.cos(1.21766663097 + 6245.1866318371 * t);
-        X1 += 0.00000003999 * Math.cos(4.35925928456 + 6244.69899687009 * t);
-        X1 += 0.00000002999 * Math.cos(1.64598289911 + 526.00262931501 * t);
-        X1 += 0.00000003014 * Math.cos(3.95092279768 + 1054.94532701169 * t);
-        X1 += 0.00000003091 * Math.cos(2.95397758261 + 42.997027585 * t);
-        X1 += 0.00000003274 * Math.cos(1.10162661548 + 736.1203310153 * t);
-        X1 += 0.00000002965 * Math.cos(2.69144881941 + 533.8669358412 * t);
-        X1 += 0.00000003149 * Math.cos(0.77764778909 + 103.7639804718 * t);
-        X1 += 0.00000003610 * Math.cos(3.04477019722 + 55.05162767771 * t);
-        X1 += 0.00000002937 * Math.cos(4.36852075939 + 385.2523923381 * t);
-        X1 += 0.00000002903 * Math.cos(5.92315544183 + 117.5636857037 * t);
-        X1 += 0.00000002968 * Math.cos(2.85171539624 + 613.31440085451 * t);
-        X1 += 0.00000003097 * Math.cos(2.85040396879 + 1395.24313830449 * t);
-        X1 += 0.00000002931 * Math.cos(5.17875295945 + 202.4972126576 * t);
-        X1 += 0.00000003013 * Math.cos(3.06605929280 + 121.2352065359 * t);
-        X1 += 0.00000003206 * Math.cos(1.29027400076 + 53.40958840249 * t);
-        X1 += 0.00000003269 * Math.cos(5.16847517364 + 480.00777927849 * t);
-        X1 += 0.00000003948 * Math.cos(3.85972628729 + 112.8832650427 * t);
-        X1 += 0.00000002824 * Math.cos(1.57846497121 + 176.406715025 * t);
-        X1 += 0.00000002827 * Math.cos(1.93940329091 + 429.81095377611 * t);
-        X1 += 0.00000003348 * Math.cos(5.12243609352 + 6284.8041401832 * t);
-        X1 += 0.00000002862 * Math.cos(0.86276885894 + 384.02855206069 * t);
-        X1 += 0.00000003228 * Math.cos(0.42457598020 + 52.6039471229 * t);
-        X1 += 0.00000003446 * Math.cos(3.75606585057 + 62.0076081116 * t);
-        X1 += 0.00000003096 * Math.cos(3.26760360935 + 71.82946809809 * t);
-        X1 += 0.00000003031 * Math.cos(4.66996407487 + 494.2348732801 * t);
-        X1 += 0.00000003021 * Math.cos(1.39292760491 + 328.5964111407 * t);
-        X1 += 0.00000002731 * Math.cos(2.36952809744 + 432.471082652 * t);
-        X1 += 0.00000003171 * Math.cos(0.25949036332 + 10215.0138364028 * t);
-        X1 += 0.00000002674 * Math.cos(0.72177739894 + 158.12984768129 * t);
-        X1 += 0.00000002901 * Math.cos(5.80027365050 + 559.4697985068 * t);
-        X1 += 0.00000002631 * Math.cos(5.78146252380 + 2008.8013566425 * t);
-        X1 += 0.00000002695 * Math.cos(5.11715867535 + 81.61769818981 * t);
-        X1 += 0.00000002695 * Math.cos(1.97556602176 + 81.13006322279 * t);
-        X1 += 0.00000002721 * Math.cos(2.68965946829 + 326.1823604807 * t);
-        X1 += 0.00000002775 * Math.cos(5.84695952836 + 457.8614969965 * t);
-        X1 += 0.00000003054 * Math.cos(1.52217085552 + 6281.8351947666 * t);
-        X1 += 0.00000002852 * Math.cos(4.47706032032 + 186.71620997851 * t);
-        X1 += 0.00000002538 * Math.cos(0.16145086268 + 111.18634401329 * t);
-        X1 += 0.00000002835 * Math.cos(4.50055998275 + 419.50145882259 * t);
-        X1 += 0.00000002868 * Math.cos(2.09813621145 + 844.56699288049 * t);
-        X1 += 0.00000002530 * Math.cos(1.04013419881 + 1050.7525413177 * t);
-        X1 += 0.00000002843 * Math.cos(2.58892628620 + 830.3398988789 * t);
-        X1 += 0.00000002848 * Math.cos(3.12250765680 + 659.36662477269 * t);
-        X1 += 0.00000003031 * Math.cos(4.13022602708 + 406.3469551246 * t);
-        X1 += 0.00000002907 * Math.cos(5.28583383732 + 573.6968925084 * t);
-        X1 += 0.00000002536 * Math.cos(3.44172011173 + 82.6145359311 * t);
-        X1 += 0.00000002957 * Math.cos(0.45041658093 + 947.70795120889 * t);
-        X1 += 0.00000003321 * Math.cos(2.30536254604 + 449.9996825978 * t);
-        X1 += 0.00000003117 * Math.cos(3.17172140219 + 457.32567791969 * t);
-        X1 += 0.00000002902 * Math.cos(2.94761781535 + 10212.0448909862 * t);
-        X1 += 0.00000002459 * Math.cos(2.17142711813 + 450.73339578069 * t);
-        X1 += 0.00000002557 * Math.cos(2.89791026532 + 525.4813644532 * t);
-        X1 += 0.00000002624 * Math.cos(1.78027142371 + 946.2234785006 * t);
-        X1 += 0.00000002417 * Math.cos(4.80936350850 + 351.5727748252 * t);
-        X1 += 0.00000002454 * Math.cos(4.84992044892 + 196.01680510321 * t);
-        X1 += 0.00000002585 * Math.cos(0.99587951695 + 248.70700314271 * t);
-        X1 += 0.00000002549 * Math.cos(1.80324449988 + 1062.80714141041 * t);
-        X1 += 0.00000002615 * Math.cos(2.49010683388 + 425.13053311509 * t);
-        X1 += 0.00000002387 * Math.cos(3.61270640757 + 654.3681977991 * t);
-        X1 += 0.00000002439 * Math.cos(6.16957116292 + 462.74230389109 * t);
-        X1 += 0.00000002367 * Math.cos(4.32238656757 + 107.52937739611 * t);
-        X1 += 0.00000002538 * Math.cos(2.61932649618 + 481.2316195559 * t);
-        X1 += 0.00000002479 * Math.cos(1.99143603619 + 205.9417309537 * t);
-        X1 += 0.00000002791 * Math.cos(0.73480816467 + 24.14975911971 * t);
-        X1 += 0.00000002626 * Math.cos(1.16663444616 + 213.0552779545 * t);
-        X1 += 0.00000002445 * Math.cos(4.84988920933 + 146.87169909629 * t);
-        X1 += 0.00000002575 * Math.cos(1.89431453798 + 86.07111631471 * t);
-        X1 += 0.00000003120 * Math.cos(5.91742201237 + 456.36247007319 * t);
-        X1 += 0.00000002587 * Math.cos(0.02224873460 + 400.8209466961 * t);
-        X1 += 0.00000002261 * Math.cos(4.82066845150 + 644.33388949151 * t);
-        X1 += 0.00000002796 * Math.cos(5.01395178381 + 216.67861467689 * t);
-        X1 += 0.00000002896 * Math.cos(2.29072801127 + 1685.2959399851 * t);
-        X1 += 0.00000002453 * Math.cos(3.24288673382 + 109.9625037359 * t);
-        X1 += 0.00000002325 * Math.cos(4.96633817815 + 442.886135597 * t);
-        X1 += 0.00000002387 * Math.cos(5.32424727918 + 599.0873068529 * t);
-        X1 += 0.00000002873 * Math.cos(3.56351208170 + 834.5326845729 * t);
-        X1 += 0.00000002963 * Math.cos(0.77021714990 + 2119.00767786191 * t);
-        X1 += 0.00000002233 * Math.cos(5.94426610995 + 709.29362807231 * t);
-        X1 += 0.00000002337 * Math.cos(4.30558394222 + 210.5739675049 * t);
-        X1 += 0.00000002259 * Math.cos(3.67528651606 + 29.5036467663 * t);
-        X1 += 0.00000002300 * Math.cos(0.62755545112 + 986.0534351678 * t);
-        X1 += 0.00000002199 * Math.cos(2.78438991669 + 606.2008538537 * t);
-        X1 += 0.00000002325 * Math.cos(3.26991047297 + 109.701871305 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 113 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.01620002167 * Math.cos(0.60038473142 + 38.3768531213 * t);
-        X2 += 0.00028138323 * Math.cos(5.58440767451 + 0.2438174835 * t);
-        X2 += 0.00012318619 * Math.cos(2.58513114618 + 39.86132582961 * t);
-        X2 += 0.00008346956 * Math.cos(5.13440715484 + 37.88921815429 * t);
-        X2 += 0.00005131003 * Math.cos(5.12974075920 + 76.50988875911 * t);
-        X2 += 0.00004109792 * Math.cos(1.46495026130 + 36.892380413 * t);
-        X2 += 0.00001369663 * Math.cos(3.55762715050 + 1.7282901918 * t);
-        X2 += 0.00000633706 * Math.cos(2.38135108376 + 3.21276290011 * t);
-        X2 += 0.00000583006 * Math.cos(1.54592369321 + 41.3457985379 * t);
-        X2 += 0.00000546517 * Math.cos(0.70972594452 + 75.0254160508 * t);
-        X2 += 0.00000246224 * Math.cos(2.44618778574 + 213.5429129215 * t);
-        X2 += 0.00000159773 * Math.cos(1.26414365966 + 206.42936592071 * t);
-        X2 += 0.00000156619 * Math.cos(3.61656709171 + 220.6564599223 * t);
-        X2 += 0.00000191674 * Math.cos(2.17166123081 + 529.9347825781 * t);
-        X2 += 0.00000188212 * Math.cos(4.43184732741 + 35.40790770471 * t);
-        X2 += 0.00000117788 * Math.cos(4.12530218101 + 522.8212355773 * t);
-        X2 += 0.00000114488 * Math.cos(0.05081176794 + 35.9291725665 * t);
-        X2 += 0.00000112666 * Math.cos(0.21220394551 + 537.0483295789 * t);
-        X2 += 0.00000105949 * Math.cos(1.13080468733 + 40.8245336761 * t);
-        X2 += 0.00000077696 * Math.cos(0.84633184914 + 77.9943614674 * t);
-        X2 += 0.00000090798 * Math.cos(2.05479887039 + 73.5409433425 * t);
-        X2 += 0.00000067696 * Math.cos(2.44679430551 + 426.8420083595 * t);
-        X2 += 0.00000074860 * Math.cos(1.44346648461 + 4.6972356084 * t);
-        X2 += 0.00000064717 * Math.cos(6.06001471150 + 34.9202727377 * t);
-        X2 += 0.00000051378 * Math.cos(6.13002795973 + 36.404745446 * t);
-        X2 += 0.00000050205 * Math.cos(0.67007332287 + 42.83027124621 * t);
-        X2 += 0.00000040929 * Math.cos(6.22049348014 + 33.9234349964 * t);
-        X2 += 0.00000036136 * Math.cos(6.15460243008 + 98.6561710411 * t);
-        X2 += 0.00000033953 * Math.cos(5.02568302050 + 1059.6257476727 * t);
-        X2 += 0.00000034603 * Math.cos(3.26702076082 + 76.0222537921 * t);
-        X2 += 0.00000035441 * Math.cos(2.49518827466 + 31.2633061205 * t);
-        X2 += 0.00000029614 * Math.cos(3.34814694529 + 28.81562556571 * t);
-        X2 += 0.00000031027 * Math.cos(4.97087448592 + 45.49040012211 * t);
-        X2 += 0.00000035521 * Math.cos(1.13028002523 + 39.3736908626 * t);
-        X2 += 0.00000025488 * Math.cos(4.04320892614 + 47.9380806769 * t);
-        X2 += 0.00000020115 * Math.cos(3.93227849656 + 1.24065522479 * t);
-        X2 += 0.00000014328 * Math.cos(2.73754899228 + 433.9555553603 * t);
-        X2 += 0.00000015503 * Math.cos(3.13160557995 + 114.6429243969 * t);
-        X2 += 0.00000016998 * Math.cos(0.93393874821 + 33.43580002939 * t);
-        X2 += 0.00000013166 * Math.cos(0.39556817176 + 419.72846135871 * t);
-        X2 += 0.00000013053 * Math.cos(6.11304367644 + 60.52313540329 * t);
-        X2 += 0.00000010637 * Math.cos(5.94332175983 + 34.1840674273 * t);
-        X2 += 0.00000009610 * Math.cos(1.65699013342 + 640.1411037975 * t);
-        X2 += 0.00000009354 * Math.cos(1.41415954295 + 42.5696388153 * t);
-        X2 += 0.00000011447 * Math.cos(6.19793150566 + 71.5688356672 * t);
-        X2 += 0.00000008454 * Math.cos(2.75562169800 + 2.7251279331 * t);
-        X2 += 0.00000009012 * Math.cos(4.44112001347 + 72.05647063421 * t);
-        X2 += 0.00000009594 * Math.cos(5.79483289118 + 69.3963417583 * t);
-        X2 += 0.00000007419 * Math.cos(3.49645345230 + 227.77000692311 * t);
-        X2 += 0.00000006800 * Math.cos(5.14250085135 + 113.15845168861 * t);
-        X2 += 0.00000006267 * Math.cos(0.79586518424 + 1066.7392946735 * t);
-        X2 += 0.00000006895 * Math.cos(4.31090775556 + 111.67397898031 * t);
-        X2 += 0.00000005770 * Math.cos(1.23253284004 + 32.4389622881 * t);
-        X2 += 0.00000005686 * Math.cos(2.23805923850 + 30.300098274 * t);
-        X2 += 0.00000006679 * Math.cos(4.85529332414 + 258.78949556011 * t);
-        X2 += 0.00000007799 * Math.cos(1.58396135295 + 7.3573644843 * t);
-        X2 += 0.00000005906 * Math.cos(5.92485931723 + 44.31474395451 * t);
-        X2 += 0.00000005606 * Math.cos(5.17941805418 + 46.4536079686 * t);
-        X2 += 0.00000005525 * Math.cos(3.61911776351 + 1052.51220067191 * t);
-        X2 += 0.00000007257 * Math.cos(0.17315189128 + 1097.7587833105 * t);
-        X2 += 0.00000005427 * Math.cos(1.80586256737 + 105.76971804189 * t);
-        X2 += 0.00000005179 * Math.cos(4.25986194250 + 515.70768857651 * t);
-        X2 += 0.00000005163 * Math.cos(6.27919257182 + 7.83293736379 * t);
-        X2 += 0.00000004688 * Math.cos(2.52139212878 + 222.14093263061 * t);
-        X2 += 0.00000005379 * Math.cos(5.86341629561 + 22.3900997655 * t);
-        X2 += 0.00000004607 * Math.cos(4.89100806572 + 549.1603035533 * t);
-        X2 += 0.00000004101 * Math.cos(0.29016053329 + 213.0552779545 * t);
-        X2 += 0.00000004262 * Math.cos(5.51395238453 + 204.9448932124 * t);
-        X2 += 0.00000003916 * Math.cos(0.21419544093 + 207.913838629 * t);
-        X2 += 0.00000004089 * Math.cos(4.97684127402 + 304.84171947829 * t);
-        X2 += 0.00000003729 * Math.cos(1.40848954224 + 199.3158189199 * t);
-        X2 += 0.00000003680 * Math.cos(5.54809318630 + 1589.3167127673 * t);
-        X2 += 0.00000003702 * Math.cos(1.01863119774 + 319.06881347989 * t);
-        X2 += 0.00000004832 * Math.cos(1.26423594188 + 215.0273856298 * t);
-        X2 += 0.00000003474 * Math.cos(1.17401543445 + 103.3365917021 * t);
-        X2 += 0.00000003298 * Math.cos(0.10619126376 + 544.1618765797 * t);
-        X2 += 0.00000004521 * Math.cos(0.07911565781 + 108.2173985967 * t);
-        X2 += 0.00000003967 * Math.cos(2.67776762695 + 944.7390057923 * t);
-        X2 += 0.00000004059 * Math.cos(3.01104350847 + 149.8070146181 * t);
-        X2 += 0.00000004009 * Math.cos(5.61852534309 + 533.1161763158 * t);
-        X2 += 0.00000003288 * Math.cos(1.44957894842 + 407.9344936969 * t);
-        X2 += 0.00000003976 * Math.cos(5.00221858099 + 526.7533888404 * t);
-        X2 += 0.00000003343 * Math.cos(0.65785646071 + 531.4192552864 * t);
-        X2 += 0.00000003932 * Math.cos(3.66244745467 + 91.54262404029 * t);
-        X2 += 0.00000003478 * Math.cos(6.19876429652 + 6.1817083167 * t);
-        X2 += 0.00000002967 * Math.cos(1.04478648324 + 860.55374623631 * t);
-        X2 += 0.00000003058 * Math.cos(0.02482940557 + 342.9747551161 * t);
-        X2 += 0.00000003974 * Math.cos(2.04910269520 + 335.8612081153 * t);
-        X2 += 0.00000002849 * Math.cos(0.86611245106 + 666.4801717735 * t);
-        X2 += 0.00000002999 * Math.cos(1.27874757189 + 937.62545879149 * t);
-        X2 += 0.00000003008 * Math.cos(5.16783990611 + 74.53778108379 * t);
-        X2 += 0.00000003080 * Math.cos(3.04902400148 + 129.6756596781 * t);
-        X2 += 0.00000003346 * Math.cos(4.64303639862 + 1162.7185218913 * t);
-        X2 += 0.00000002625 * Math.cos(1.69459459452 + 273.8222308413 * t);
-        X2 += 0.00000002931 * Math.cos(1.57809055514 + 235.68919520349 * t);
-        X2 += 0.00000002579 * Math.cos(0.48473918174 + 1073.85284167431 * t);
-        X2 += 0.00000002550 * Math.cos(6.14366282644 + 26.58288545949 * t);
-        X2 += 0.00000002542 * Math.cos(4.22297682017 + 1265.81129610991 * t);
-        X2 += 0.00000002483 * Math.cos(1.73279038376 + 453.1810763355 * t);
-        X2 += 0.00000002732 * Math.cos(1.76626805419 + 563.38739755489 * t);
-        X2 += 0.00000002508 * Math.cos(1.67664275102 + 37.8555882595 * t);
-        X2 += 0.00000002508 * Math.cos(0.34076894500 + 425.35753565121 * t);
-        X2 += 0.00000002680 * Math.cos(5.74609617365 + 454.6655490438 * t);
-        X2 += 0.00000002511 * Math.cos(3.15018930028 + 209.6107596584 * t);
-        X2 += 0.00000002512 * Math.cos(1.74477024139 + 217.4750661846 * t);
-        X2 += 0.00000002552 * Math.cos(5.67032305105 + 79.47883417571 * t);
-        X2 += 0.00000002457 * Math.cos(2.67033044982 + 38.89811798311 * t);
-        X2 += 0.00000002343 * Math.cos(1.93599816349 + 981.3875687218 * t);
-        X2 += 0.00000002501 * Math.cos(1.67412173715 + 669.4009330803 * t);
-        X2 += 0.00000002330 * Math.cos(3.95065162563 + 38.32866901151 * t);
-        X2 += 0.00000002327 * Math.cos(0.39474993260 + 38.4250372311 * t);
-        X2 += 0.00000002481 * Math.cos(5.56752927904 + 655.1738390787 * t);
-        X2 += 0.00000002569 * Math.cos(4.22623902188 + 464.97504399731 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 37 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00000985355 * Math.cos(0.69240373955 + 38.3768531213 * t);
-        X3 += 0.00000482798 * Math.cos(0.83271959724 + 37.88921815429 * t);
-        X3 += 0.00000416447 * Math.cos(0.37037561694 + 0.2438174835 * t);
-        X3 += 0.00000303825 * Math.cos(0.53797420117 + 39.86132582961 * t);
-        X3 += 0.00000089203 * Math.cos(1.52338099991 + 36.892380413 * t);
-        X3 += 0.00000070862 * Math.cos(5.83899744010 + 76.50988875911 * t);
-        X3 += 0.00000028900 * Math.cos(5.65001946959 + 41.3457985379 * t);
-        X3 += 0.00000022279 * Math.cos(2.95886685234 + 206.42936592071 * t);
-        X3 += 0.00000021480 * Math.cos(1.87359273442 + 220.6564599223 * t);
-        X3 += 0.00000016157 * Math.cos(5.83581915834 + 522.8212355773 * t);
-        X3 += 0.00000015714 * Math.cos(4.76719570238 + 537.0483295789 * t);
-        X3 += 0.00000011404 * Math.cos(2.25961154910 + 35.40790770471 * t);
-        X3 += 0.00000013199 * Math.cos(0.06057423298 + 7.3573644843 * t);
-        X3 += 0.00000007024 * Math.cos(0.69890179308 + 3.21276290011 * t);
-        X3 += 0.00000006772 * Math.cos(1.19679143435 + 69.3963417583 * t);
-        X3 += 0.00000004517 * Math.cos(3.28893027439 + 45.49040012211 * t);
-        X3 += 0.00000004523 * Math.cos(4.18705629066 + 31.2633061205 * t);
-        X3 += 0.00000003682 * Math.cos(1.47261975259 + 98.6561710411 * t);
-        X3 += 0.00000003656 * Math.cos(0.60146659814 + 968.64494742849 * t);
-        X3 += 0.00000003927 * Math.cos(0.54740561653 + 426.8420083595 * t);
-        X3 += 0.00000003199 * Math.cos(1.67327016260 + 1519.6765535255 * t);
-        X3 += 0.00000003498 * Math.cos(3.27476696786 + 407.9344936969 * t);
-        X3 += 0.00000003304 * Math.cos(2.24745680549 + 422.1615876985 * t);
-        X3 += 0.00000003331 * Math.cos(1.97045240379 + 36.404745446 * t);
-        X3 += 0.00000003244 * Math.cos(2.85168281358 + 484.2005649725 * t);
-        X3 += 0.00000002689 * Math.cos(0.89932845788 + 441.06910236111 * t);
-        X3 += 0.00000003247 * Math.cos(1.76512860403 + 498.42765897409 * t);
-        X3 += 0.00000002651 * Math.cos(0.45669916115 + 304.84171947829 * t);
-        X3 += 0.00000002645 * Math.cos(5.61672793904 + 461.77909604459 * t);
-        X3 += 0.00000002542 * Math.cos(5.76347018476 + 444.5830566264 * t);
-        X3 += 0.00000002524 * Math.cos(0.75739625090 + 433.9555553603 * t);
-        X3 += 0.00000002472 * Math.cos(5.63416184223 + 319.06881347989 * t);
-        X3 += 0.00000002355 * Math.cos(0.46192754883 + 447.552002043 * t);
-        X3 += 0.00000002876 * Math.cos(5.22513442854 + 853.4401992355 * t);
-        X3 += 0.00000002279 * Math.cos(4.63709500769 + 458.810150628 * t);
-        X3 += 0.00000002147 * Math.cos(2.63611189369 + 175.40987728371 * t);
-        X3 += 0.00000002637 * Math.cos(3.63693499332 + 73.5409433425 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 14 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00003455306 * Math.cos(3.61464892215 + 38.3768531213 * t);
-        X4 += 0.00000047405 * Math.cos(2.21390996774 + 0.2438174835 * t);
-        X4 += 0.00000021936 * Math.cos(2.72972488197 + 37.88921815429 * t);
-        X4 += 0.00000015596 * Math.cos(1.87854121560 + 76.50988875911 * t);
-        X4 += 0.00000017186 * Math.cos(5.53785371687 + 39.86132582961 * t);
-        X4 += 0.00000017459 * Math.cos(4.82899740364 + 36.892380413 * t);
-        X4 += 0.00000004229 * Math.cos(1.43245860878 + 515.70768857651 * t);
-        X4 += 0.00000004334 * Math.cos(5.41648117577 + 433.9555553603 * t);
-        X4 += 0.00000003547 * Math.cos(5.75561157107 + 989.98558843089 * t);
-        X4 += 0.00000003155 * Math.cos(4.85322840051 + 467.40817033709 * t);
-        X4 += 0.00000003017 * Math.cos(0.06479449145 + 227.77000692311 * t);
-        X4 += 0.00000002981 * Math.cos(0.29920864811 + 1.7282901918 * t);
-        X4 += 0.00000002295 * Math.cos(0.13749342692 + 220.6564599223 * t);
-        X4 += 0.00000002296 * Math.cos(4.70646260044 + 206.42936592071 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 1 term of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000026291 * Math.cos(3.71724730200 + 38.3768531213 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 821 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 30.05973100580 * Math.cos(3.74109000403 + 38.3768531213 * t);
-        Y0 += 0.40567587218 * Math.cos(2.41070337452 + 0.2438174835 * t);
-        Y0 += 0.13506026414 * Math.cos(1.92976188293 + 76.50988875911 * t);
-        Y0 += 0.15716341901 * Math.cos(4.82548976006 + 36.892380413 * t);
-        Y0 += 0.14935642614 * Math.cos(5.79716600101 + 39.86132582961 * t);
-        Y0 += 0.02590782232 * Math.cos(0.42530135542 + 1.7282901918 * t);
-        Y0 += 0.01073890204 * Math.cos(3.81397520876 + 75.0254160508 * t);
-        Y0 += 0.00816388197 * Math.cos(5.49424416077 + 3.21276290011 * t);
-        Y0 += 0.00702768075 * Math.cos(6.16602540157 + 35.40790770471 * t);
-        Y0 += 0.00687594822 * Math.cos(2.29155372023 + 37.88921815429 * t);
-        Y0 += 0.00565555652 * Math.cos(4.41864141199 + 41.3457985379 * t);
-        Y0 += 0.00495650075 * Math.cos(5.31196432386 + 529.9347825781 * t);
-        Y0 += 0.00306025380 * Math.cos(5.11155686178 + 73.5409433425 * t);
-        Y0 += 0.00272446904 * Math.cos(5.58643013675 + 213.5429129215 * t);
-        Y0 += 0.00135892298 * Math.cos(3.97575347243 + 77.9943614674 * t);
-        Y0 += 0.00122117697 * Math.cos(2.87943509460 + 34.9202727377 * t);
-        Y0 += 0.00090968285 * Math.cos(0.11807115994 + 114.6429243969 * t);
-        Y0 += 0.00068915400 * Math.cos(4.26390741720 + 4.6972356084 * t);
-        Y0 += 0.00040370680 * Math.cos(1.09050058383 + 33.9234349964 * t);
-        Y0 += 0.00028891307 * Math.cos(3.21868082836 + 42.83027124621 * t);
-        Y0 += 0.00029247752 * Math.cos(0.05239890051 + 72.05647063421 * t);
-        Y0 += 0.00025576289 * Math.cos(3.05422599686 + 71.5688356672 * t);
-        Y0 += 0.00020517968 * Math.cos(4.12700709797 + 33.43580002939 * t);
-        Y0 += 0.00012614154 * Math.cos(1.99850111659 + 113.15845168861 * t);
-        Y0 += 0.00012788929 * Math.cos(1.16690001367 + 111.67397898031 * t);
-        Y0 += 0.00012013477 * Math.cos(5.66154697546 + 1059.6257476727 * t);
-        Y0 += 0.00009854638 * Math.cos(1.82793273920 + 36.404745446 * t);
-        Y0 += 0.00008385825 * Math.cos(3.22321843541 + 108.2173985967 * t);
-        Y0 += 0.00007577585 * Math.cos(4.81209675667 + 426.8420083595 * t);
-        Y0 += 0.00006452053 * Math.cos(3.05476893393 + 6.1817083167 * t);
-        Y0 += 0.00006551074 * Math.cos(3.48963683470 + 1.24065522479 * t);
-        Y0 += 0.00004652534 * Math.cos(4.81582901104 + 37.8555882595 * t);
-        Y0 += 0.00004732958 * Math.cos(2.52632268239 + 79.47883417571 * t);
-        Y0 += 0.00004557247 * Math.cos(5.80951559837 + 38.89811798311 * t);
-        Y0 += 0.00004322550 * Math.cos(0.80665146695 + 38.32866901151 * t);
-        Y0 += 0.00004315539 * Math.cos(3.53393508109 + 38.4250372311 * t);
-        Y0 += 0.00004089036 * Math.cos(0.42349431022 + 37.4136452748 * t);
-        Y0 += 0.00004248658 * Math.cos(4.06300076615 + 28.81562556571 * t);
-        Y0 += 0.00004622142 * Math.cos(4.31075084247 + 70.08436295889 * t);
-        Y0 += 0.00003926447 * Math.cos(3.91895428213 + 39.34006096781 * t);
-        Y0 += 0.00003148422 * Math.cos(0.47516466537 + 76.0222537921 * t);
-        Y0 += 0.00003940981 * Math.cos(3.86846009370 + 98.6561710411 * t);
-        Y0 += 0.00003323363 * Math.cos(3.11696612599 + 4.4366031775 * t);
-        Y0 += 0.00003282964 * Math.cos(4.38630915294 + 39.3736908626 * t);
-        Y0 += 0.00003110464 * Math.cos(0.27337264525 + 47.9380806769 * t);
-        Y0 += 0.00002927062 * Math.cos(1.26687681282 + 70.5719979259 * t);
-        Y0 += 0.00002748919 * Math.cos(2.29910620256 + 32.4389622881 * t);
-        Y0 += 0.00003316668 * Math.cos(3.39273716880 + 144.8659615262 * t);
-        Y0 += 0.00002822405 * Math.cos(5.35210680933 + 31.9513273211 * t);
-        Y0 += 0.00002695972 * Math.cos(2.28196668869 + 110.189506272 * t);
-        Y0 += 0.00002522990 * Math.cos(6.23388252645 + 311.9552664791 * t);
-        Y0 += 0.00001888129 * Math.cos(1.63385050550 + 35.9291725665 * t);
-        Y0 += 0.00001648229 * Math.cos(2.49960621702 + 30.300098274 * t);
-        Y0 += 0.00001826545 * Math.cos(2.00941496239 + 44.31474395451 * t);
-        Y0 += 0.00001956241 * Math.cos(2.57436514192 + 206.42936592071 * t);
-        Y0 += 0.00001681257 * Math.cos(2.70480495091 + 40.8245336761 * t);
-        Y0 += 0.00001533383 * Math.cos(5.88971111646 + 38.26497853671 * t);
-        Y0 += 0.00001893076 * Math.cos(5.46256301015 + 220.6564599223 * t);
-        Y0 += 0.00001527526 * Math.cos(4.73412536340 + 38.4887277059 * t);
-        Y0 += 0.00002085691 * Math.cos(6.28187170642 + 149.8070146181 * t);
-        Y0 += 0.00002070612 * Math.cos(4.39661439400 + 136.78920667889 * t);
-        Y0 += 0.00001535699 * Math.cos(2.18492948354 + 73.0533083755 * t);
-        Y0 += 0.00001667976 * Math.cos(4.48792091670 + 106.73292588839 * t);
-        Y0 += 0.00001289620 * Math.cos(1.82629228420 + 46.4536079686 * t);
-        Y0 += 0.00001559811 * Math.cos(5.27109740006 + 38.11622069041 * t);
-        Y0 += 0.00001545705 * Math.cos(5.35267674075 + 38.6374855522 * t);
-        Y0 += 0.00001435033 * Math.cos(5.44094847718 + 522.8212355773 * t);
-        Y0 += 0.00001406206 * Math.cos(2.04637394879 + 537.0483295789 * t);
-        Y0 += 0.00001256446 * Math.cos(1.13828126057 + 34.1840674273 * t);
-        Y0 += 0.00001387973 * Math.cos(2.14763765402 + 116.12739710521 * t);
-        Y0 += 0.00001457739 * Math.cos(3.56061267693 + 181.5145244557 * t);
-        Y0 += 0.00001228429 * Math.cos(1.21566711155 + 72.31710306511 * t);
-        Y0 += 0.00001140665 * Math.cos(5.53723346032 + 7.83293736379 * t);
-        Y0 += 0.00001080801 * Math.cos(3.18403832376 + 42.5696388153 * t);
-        Y0 += 0.00001201409 * Math.cos(2.31627619186 + 2.7251279331 * t);
-        Y0 += 0.00001228671 * Math.cos(1.08170099047 + 148.32254190981 * t);
-        Y0 += 0.00000722014 * Math.cos(4.59727081765 + 152.77596003471 * t);
-        Y0 += 0.00000608545 * Math.cos(2.92457352888 + 35.4560918145 * t);
-        Y0 += 0.00000722865 * Math.cos(4.66419895504 + 143.38148881789 * t);
-        Y0 += 0.00000632820 * Math.cos(1.84622497362 + 7.66618102501 * t);
-        Y0 += 0.00000642369 * Math.cos(5.54570420373 + 68.5998902506 * t);
-        Y0 += 0.00000553789 * Math.cos(1.41527095431 + 41.2976144281 * t);
-        Y0 += 0.00000682276 * Math.cos(3.72885979362 + 218.1630873852 * t);
-        Y0 += 0.00000463186 * Math.cos(1.17340921668 + 31.7845709823 * t);
-        Y0 += 0.00000521560 * Math.cos(1.91893273311 + 0.719390363 * t);
-        Y0 += 0.00000437892 * Math.cos(6.01046620661 + 1589.3167127673 * t);
-        Y0 += 0.00000398091 * Math.cos(0.79544793472 + 6.3484646555 * t);
-        Y0 += 0.00000384065 * Math.cos(3.15552603467 + 44.96913526031 * t);
-        Y0 += 0.00000395583 * Math.cos(3.48448044710 + 108.70503356371 * t);
-        Y0 += 0.00000327446 * Math.cos(4.26279342171 + 60.52313540329 * t);
-        Y0 += 0.00000358824 * Math.cos(0.28673200218 + 30.4668546128 * t);
-        Y0 += 0.00000315179 * Math.cos(1.74548132888 + 74.53778108379 * t);
-        Y0 += 0.00000343384 * Math.cos(0.17566264278 + 0.7650823453 * t);
-        Y0 += 0.00000399611 * Math.cos(3.76461168231 + 31.2633061205 * t);
-        Y0 += 0.00000314611 * Math.cos(1.41723391958 + 419.72846135871 * t);
-        Y0 += 0.00000347596 * Math.cos(4.83723596339 + 180.03005174739 * t);
-        Y0 += 0.00000382279 * Math.cos(1.78844211361 + 487.1213262793 * t);
-        Y0 += 0.00000300918 * Math.cos(2.47842979419 + 69.0875252176 * t);
-        Y0 += 0.00000340448 * Math.cos(2.33467216950 + 146.8380692015 * t);
-        Y0 += 0.00000298710 * Math.cos(3.60933906971 + 84.5866436064 * t);
-        Y0 += 0.00000290629 * Math.cos(0.17794042595 + 110.45013870291 * t);
-        Y0 += 0.00000336211 * Math.cos(0.57735466050 + 45.49040012211 * t);
-        Y0 += 0.00000305606 * Math.cos(4.06185849299 + 640.1411037975 * t);
-        Y0 += 0.00000333702 * Math.cos(3.90017949649 + 254.8116503147 * t);
-        Y0 += 0.00000268060 * Math.cos(1.73772568979 + 37.0042549976 * t);
-        Y0 += 0.00000264760 * Math.cos(2.55644426185 + 39.749451245 * t);
-        Y0 += 0.00000315240 * Math.cos(1.15162155813 + 388.70897272171 * t);
-        Y0 += 0.00000227098 * Math.cos(6.16236913832 + 273.8222308413 * t);
-        Y0 += 0.00000306112 * Math.cos(0.18265553789 + 6283.3196674749 * t);
-        Y0 += 0.00000284373 * Math.cos(1.79060192705 + 12.77399045571 * t);
-        Y0 += 0.00000221105 * Math.cos(5.08019996555 + 213.0552779545 * t);
-        Y0 += 0.00000242568 * Math.cos(0.49358017330 + 14.258463164 * t);
-        Y0 += 0.00000241087 * Math.cos(5.73194988554 + 105.2484531801 * t);
-        Y0 += 0.00000226136 * Math.cos(1.26736306174 + 80.963306884 * t);
-        Y0 += 0.00000245904 * Math.cos(5.25701422242 + 27.3311528574 * t);
-        Y0 += 0.00000265825 * Math.cos(5.68032293038 + 944.7390057923 * t);
-        Y0 += 0.00000207893 * Math.cos(3.50733218656 + 30.95448957981 * t);
-        Y0 += 0.00000214661 * Math.cos(1.08322862012 + 316.6356871401 * t);
-        Y0 += 0.00000190638 * Math.cos(0.75588071076 + 69.3963417583 * t);
-        Y0 += 0.00000246295 * Math.cos(3.55718121196 + 102.84895673509 * t);
-        Y0 += 0.00000202915 * Math.cos(2.17108892757 + 415.04804069769 * t);
-        Y0 += 0.00000176465 * Math.cos(4.85970190916 + 36.7805058284 * t);
-        Y0 += 0.00000193886 * Math.cos(4.92555932032 + 174.9222423167 * t);
-        Y0 += 0.00000175209 * Math.cos(5.83814591553 + 39.97320041421 * t);
-        Y0 += 0.00000177868 * Math.cos(5.01003024093 + 216.67861467689 * t);
-        Y0 += 0.00000138494 * Math.cos(3.88186287753 + 75.98862389731 * t);
-        Y0 += 0.00000152234 * Math.cos(3.24582472092 + 11.2895177474 * t);
-        Y0 += 0.00000147648 * Math.cos(0.11464073993 + 151.2914873264 * t);
-        Y0 += 0.00000156202 * Math.cos(5.22332207731 + 146.3504342345 * t);
-        Y0 += 0.00000152289 * Math.cos(1.64425361444 + 23.87457247379 * t);
-        Y0 += 0.00000177911 * Math.cos(1.60563922042 + 10213.5293636945 * t);
-        Y0 += 0.00000162474 * Math.cos(2.56271758700 + 63.9797157869 * t);
-        Y0 += 0.00000121226 * Math.cos(3.53504653517 + 38.16440480021 * t);
-        Y0 += 0.00000129049 * Math.cos(2.23605274276 + 37.1048287341 * t);
-        Y0 += 0.00000120334 * Math.cos(0.80557581782 + 38.5893014424 * t);
-        Y0 += 0.00000168977 * Math.cos(4.06631471177 + 291.4602132442 * t);
-        Y0 += 0.00000121138 * Math.cos(6.20896007337 + 33.26904369061 * t);
-        Y0 += 0.00000129366 * Math.cos(0.79823378243 + 45.7992166628 * t);
-        Y0 += 0.00000144682 * Math.cos(5.34262329825 + 49.42255338521 * t);
-        Y0 += 0.00000122915 * Math.cos(2.10353894081 + 39.6488775085 * t);
-        Y0 += 0.00000113400 * Math.cos(5.13399083059 + 83.1021708981 * t);
-        Y0 += 0.00000154892 * Math.cos(0.17909436973 + 77.4730966056 * t);
-        Y0 += 0.00000106737 * Math.cos(2.14516700774 + 4.8639919472 * t);
-        Y0 += 0.00000104756 * Math.cos(4.39192437833 + 43.484662552 * t);
-        Y0 += 0.00000125142 * Math.cos(1.11541363958 + 4.2096006414 * t);
-        Y0 += 0.00000103541 * Math.cos(3.68555108825 + 41.08516610701 * t);
-        Y0 += 0.00000133573 * Math.cos(5.49226848460 + 182.998997164 * t);
-        Y0 += 0.00000103627 * Math.cos(0.72176478921 + 35.6685401356 * t);
-        Y0 += 0.00000116874 * Math.cos(3.84298763857 + 62.4952430786 * t);
-        Y0 += 0.00000098063 * Math.cos(1.68574394986 + 9.8050450391 * t);
-        Y0 += 0.00000111411 * Math.cos(5.91424942326 + 141.8970161096 * t);
-        Y0 += 0.00000114294 * Math.cos(3.99149302956 + 633.0275567967 * t);
-        Y0 += 0.00000104705 * Math.cos(4.68992506677 + 433.9555553603 * t);
-        Y0 += 0.00000121306 * Math.cos(3.01971978017 + 40.8581635709 * t);
-        Y0 += 0.00000096954 * Math.cos(4.60293836623 + 1052.51220067191 * t);
-        Y0 += 0.00000085104 * Math.cos(3.21938589681 + 36.6799320919 * t);
-        Y0 += 0.00000085209 * Math.cos(1.23258290286 + 105.76971804189 * t);
-        Y0 += 0.00000085291 * Math.cos(4.16574840077 + 109.701871305 * t);
-        Y0 += 0.00000083260 * Math.cos(1.57705309557 + 529.44714761109 * t);
-        Y0 += 0.00000080200 * Math.cos(1.12120137014 + 40.07377415071 * t);
-        Y0 += 0.00000107927 * Math.cos(4.72809768120 + 1162.7185218913 * t);
-        Y0 += 0.00000095241 * Math.cos(5.18181889280 + 253.32717760639 * t);
-        Y0 += 0.00000089535 * Math.cos(1.68098752171 + 32.9602271499 * t);
-        Y0 += 0.00000089793 * Math.cos(1.19350927545 + 65.46418849521 * t);
-        Y0 += 0.00000072027 * Math.cos(4.82605474115 + 36.9405645228 * t);
-        Y0 += 0.00000080381 * Math.cos(0.49818419813 + 67.1154175423 * t);
-        Y0 += 0.00000099502 * Math.cos(4.10090280616 + 453.1810763355 * t);
-        Y0 += 0.00000088685 * Math.cos(6.05087292163 + 251.6759485593 * t);
-        Y0 += 0.00000094971 * Math.cos(5.68681980258 + 219.6475600935 * t);
-        Y0 += 0.00000077015 * Math.cos(3.73580633492 + 5.6604434549 * t);
-        Y0 += 0.00000069098 * Math.cos(3.42063825132 + 22.3900997655 * t);
-        Y0 += 0.00000079079 * Math.cos(5.69904586697 + 44.48150029329 * t);
-        Y0 += 0.00000069159 * Math.cos(2.38821700872 + 1066.7392946735 * t);
-        Y0 += 0.00000064446 * Math.cos(2.45996531968 + 66.9486612035 * t);
-        Y0 += 0.00000088518 * Math.cos(4.23259429373 + 328.1087761737 * t);
-        Y0 += 0.00000065817 * Math.cos(6.14060374302 + 36.3711155512 * t);
-        Y0 += 0.00000071422 * Math.cos(2.66025338551 + 43.79347909271 * t);
-        Y0 += 0.00000063298 * Math.cos(0.64067085772 + 9.1506537333 * t);
-        Y0 += 0.00000077320 * Math.cos(1.83922353490 + 97.17169833279 * t);
-        Y0 += 0.00000073912 * Math.cos(3.29477271110 + 2.6769438233 * t);
-        Y0 += 0.00000073965 * Math.cos(3.98729910569 + 2.9521304692 * t);
-        Y0 += 0.00000056194 * Math.cos(2.88777806681 + 949.4194264533 * t);
-        Y0 += 0.00000059173 * Math.cos(2.98452265287 + 100.14064374939 * t);
-        Y0 += 0.00000067507 * Math.cos(2.37620743833 + 7.14491616321 * t);
-        Y0 += 0.00000071718 * Math.cos(2.50472239979 + 2.20386307129 * t);
-        Y0 += 0.00000063606 * Math.cos(3.60095909928 + 25.8466801491 * t);
-        Y0 += 0.00000071523 * Math.cos(3.62910110768 + 662.28738607949 * t);
-        Y0 += 0.00000057219 * Math.cos(5.59723911326 + 15.7429358723 * t);
-        Y0 += 0.00000050322 * Math.cos(5.79549186801 + 37.15301284391 * t);
-        Y0 += 0.00000066615 * Math.cos(1.85382631980 + 846.3266522347 * t);
-        Y0 += 0.00000056220 * Math.cos(6.09466556848 + 178.5455790391 * t);
-        Y0 += 0.00000067883 * Math.cos(2.31467094623 + 224.5886131854 * t);
-        Y0 += 0.00000057761 * Math.cos(3.59414048269 + 145.35359649321 * t);
-        Y0 += 0.00000053973 * Math.cos(4.68325129609 + 107.2205608554 * t);
-        Y0 += 0.00000057588 * Math.cos(0.13600413206 + 25.3590451821 * t);
-        Y0 += 0.00000049026 * Math.cos(5.99075269953 + 19.2543980101 * t);
-        Y0 += 0.00000063036 * Math.cos(5.86840206029 + 256.296123023 * t);
-        Y0 += 0.00000045304 * Math.cos(5.57731819351 + 4.1759707466 * t);
-        Y0 += 0.00000045669 * Math.cos(0.60467903265 + 117.6118698135 * t);
-        Y0 += 0.00000052821 * Math.cos(5.35013106251 + 289.97574053589 * t);
-        Y0 += 0.00000044016 * Math.cos(0.68418990599 + 32.7477788288 * t);
-        Y0 += 0.00000042933 * Math.cos(1.50265323283 + 28.98238190449 * t);
-        Y0 += 0.00000038369 * Math.cos(5.07841615051 + 39.6006933987 * t);
-        Y0 += 0.00000038805 * Math.cos(2.55324300089 + 103.3365917021 * t);
-        Y0 += 0.00000037679 * Math.cos(4.97176992254 + 9.3174100721 * t);
-        Y0 += 0.00000040292 * Math.cos(1.32694372497 + 111.18634401329 * t);
-        Y0 += 0.00000050011 * Math.cos(4.62887079290 + 221.61966776881 * t);
-        Y0 += 0.00000037056 * Math.cos(3.05929116522 + 8.32057233081 * t);
-        Y0 += 0.00000036562 * Math.cos(1.75628268654 + 448.98829064149 * t);
-        Y0 += 0.00000044628 * Math.cos(5.39841763538 + 525.2543619171 * t);
-        Y0 += 0.00000038213 * Math.cos(4.99269276748 + 75.54668091261 * t);
-        Y0 += 0.00000045963 * Math.cos(2.49324091181 + 183.486632131 * t);
-        Y0 += 0.00000048222 * Math.cos(4.38408318526 + 364.7573391032 * t);
-        Y0 += 0.00000038164 * Math.cos(3.66287516322 + 44.00592741381 * t);
-        Y0 += 0.00000047779 * Math.cos(4.62193118070 + 3340.8562441833 * t);
-        Y0 += 0.00000042228 * Math.cos(4.07611308238 + 77.0311536209 * t);
-        Y0 += 0.00000035247 * Math.cos(4.92005743728 + 34.7535163989 * t);
-        Y0 += 0.00000046804 * Math.cos(5.53981795511 + 33.6964324603 * t);
-        Y0 += 0.00000034352 * Math.cos(5.79527968049 + 33.71098667531 * t);
-        Y0 += 0.00000034949 * Math.cos(3.58463727178 + 3.37951923889 * t);
-        Y0 += 0.00000036030 * Math.cos(0.60196271868 + 71.09326278771 * t);
-        Y0 += 0.00000038112 * Math.cos(0.94232057009 + 45.9659730016 * t);
-        Y0 += 0.00000033119 * Math.cos(3.70714424363 + 7.3573644843 * t);
-        Y0 += 0.00000032049 * Math.cos(3.04761071508 + 34.44469985821 * t);
-        Y0 += 0.00000031910 * Math.cos(0.20811343013 + 81.61769818981 * t);
-        Y0 += 0.00000038697 * Math.cos(1.09830424446 + 184.97110483931 * t);
-        Y0 += 0.00000041486 * Math.cos(4.15630010756 + 310.4707937708 * t);
-        Y0 += 0.00000038631 * Math.cos(0.74636164144 + 50.9070260935 * t);
-        Y0 += 0.00000042711 * Math.cos(0.62152472293 + 1021.49271203491 * t);
-        Y0 += 0.00000032006 * Math.cos(5.68829457469 + 42.00018984371 * t);
-        Y0 += 0.00000038436 * Math.cos(5.02591476913 + 5.92107588581 * t);
-        Y0 += 0.00000038880 * Math.cos(1.72301566300 + 76.55807286891 * t);
-        Y0 += 0.00000041190 * Math.cos(3.00922391966 + 563.87503252191 * t);
-        Y0 += 0.00000029786 * Math.cos(2.57644898724 + 77.5067265004 * t);
-        Y0 += 0.00000040604 * Math.cos(6.04591617823 + 292.9446859525 * t);
-        Y0 += 0.00000035275 * Math.cos(3.24596926614 + 304.84171947829 * t);
-        Y0 += 0.00000038242 * Math.cos(1.23011716621 + 17.76992530181 * t);
-        Y0 += 0.00000034445 * Math.cos(6.05203741506 + 319.06881347989 * t);
-        Y0 += 0.00000028725 * Math.cos(0.80354919578 + 67.6366824041 * t);
-        Y0 += 0.00000032809 * Math.cos(0.86662032393 + 91.54262404029 * t);
-        Y0 += 0.00000038880 * Math.cos(5.27893548994 + 76.4617046493 * t);
-        Y0 += 0.00000030731 * Math.cos(3.65388358465 + 67.60305250931 * t);
-        Y0 += 0.00000028459 * Math.cos(4.82537806886 + 43.0427195673 * t);
-        Y0 += 0.00000035368 * Math.cos(5.14016182775 + 313.43973918739 * t);
-        Y0 += 0.00000035703 * Math.cos(4.78026134196 + 258.26823069831 * t);
-        Y0 += 0.00000032317 * Math.cos(0.72991843715 + 78.9575693139 * t);
-        Y0 += 0.00000029243 * Math.cos(5.01962947605 + 61.01077037031 * t);
-        Y0 += 0.00000026235 * Math.cos(2.30979326374 + 137.2768416459 * t);
-        Y0 += 0.00000026519 * Math.cos(4.63187110201 + 57.4993082325 * t);
-        Y0 += 0.00000024931 * Math.cos(1.02449436120 + 42.997027585 * t);
-        Y0 += 0.00000027608 * Math.cos(0.68443037331 + 103.7639804718 * t);
-        Y0 += 0.00000028680 * Math.cos(6.22569747241 + 215.1941419686 * t);
-        Y0 += 0.00000025052 * Math.cos(0.98956881727 + 350.08830211689 * t);
-        Y0 += 0.00000031386 * Math.cos(2.53676810018 + 22.22334342671 * t);
-        Y0 += 0.00000027545 * Math.cos(6.02026727313 + 100.6282787164 * t);
-        Y0 += 0.00000022617 * Math.cos(1.89172143755 + 36.8441963032 * t);
-        Y0 += 0.00000024909 * Math.cos(4.92089915310 + 24.36220744081 * t);
-        Y0 += 0.00000026216 * Math.cos(3.37729185316 + 491.8017469403 * t);
-        Y0 += 0.00000028040 * Math.cos(1.26215532584 + 11.55015017831 * t);
-        Y0 += 0.00000023047 * Math.cos(2.67490790904 + 35.51978228931 * t);
-        Y0 += 0.00000027067 * Math.cos(5.52626880418 + 326.62430346539 * t);
-        Y0 += 0.00000026192 * Math.cos(0.78880180701 + 20.7388707184 * t);
-        Y0 += 0.00000023134 * Math.cos(1.02405904726 + 68.4331339118 * t);
-        Y0 += 0.00000021423 * Math.cos(5.59061648293 + 39.90950993941 * t);
-        Y0 += 0.00000025696 * Math.cos(5.03652999676 + 186.4555775476 * t);
-        Y0 += 0.00000026985 * Math.cos(1.96185307311 + 69.6087900794 * t);
-        Y0 += 0.00000023284 * Math.cos(1.14508397457 + 79.43065006591 * t);
-        Y0 += 0.00000022894 * Math.cos(5.33085965806 + 227.77000692311 * t);
-        Y0 += 0.00000022482 * Math.cos(5.43588494929 + 39.8131417198 * t);
-        Y0 += 0.00000023480 * Math.cos(5.96723336237 + 30.9881194746 * t);
-        Y0 += 0.00000020858 * Math.cos(1.66497796416 + 41.2339239533 * t);
-        Y0 += 0.00000020327 * Math.cos(5.86806874135 + 39.0312444271 * t);
-        Y0 += 0.00000020327 * Math.cos(4.75570383217 + 37.72246181551 * t);
-        Y0 += 0.00000022639 * Math.cos(1.78594954268 + 0.9800227939 * t);
-        Y0 += 0.00000022639 * Math.cos(4.92754219627 + 1.46765776091 * t);
-        Y0 += 0.00000019139 * Math.cos(1.60585998738 + 205.9417309537 * t);
-        Y0 += 0.00000019118 * Math.cos(0.05485235310 + 2119.00767786191 * t);
-        Y0 += 0.00000025698 * Math.cos(4.54722652155 + 401.4059020327 * t);
-        Y0 += 0.00000021582 * Math.cos(5.86612346662 + 81.13006322279 * t);
-        Y0 += 0.00000025509 * Math.cos(6.21909191790 + 329.593248882 * t);
-        Y0 += 0.00000024296 * Math.cos(3.68761645751 + 62.0076081116 * t);
-        Y0 += 0.00000023969 * Math.cos(2.45967218561 + 135.3047339706 * t);
-        Y0 += 0.00000020599 * Math.cos(6.09025723810 + 491.3141119733 * t);
-        Y0 += 0.00000016829 * Math.cos(4.06509805545 + 3.1645787903 * t);
-        Y0 += 0.00000020030 * Math.cos(2.45066995549 + 217.4750661846 * t);
-        Y0 += 0.00000020377 * Math.cos(5.60617244490 + 209.6107596584 * t);
-        Y0 += 0.00000017251 * Math.cos(1.00239992257 + 350.5759370839 * t);
-        Y0 += 0.00000019625 * Math.cos(1.41143867859 + 129.6756596781 * t);
-        Y0 += 0.00000022707 * Math.cos(0.97867191772 + 1436.2969352491 * t);
-        Y0 += 0.00000017142 * Math.cos(4.71740830608 + 29.4700168715 * t);
-        Y0 += 0.00000016188 * Math.cos(3.33781568208 + 39.00999256771 * t);
-        Y0 += 0.00000016188 * Math.cos(1.00277158426 + 37.7437136749 * t);
-        Y0 += 0.00000020858 * Math.cos(3.10425391408 + 58.9837809408 * t);
-        Y0 += 0.00000015747 * Math.cos(0.31821188942 + 154.260432743 * t);
-        Y0 += 0.00000019714 * Math.cos(5.04477015525 + 294.91679362781 * t);
-        Y0 += 0.00000019078 * Math.cos(1.16675280621 + 202.4972126576 * t);
-        Y0 += 0.00000021530 * Math.cos(4.95075882360 + 114.1552894299 * t);
-        Y0 += 0.00000019068 * Math.cos(3.39813326972 + 138.2736793872 * t);
-        Y0 += 0.00000018723 * Math.cos(4.64325038338 + 323.74923414091 * t);
-        Y0 += 0.00000018916 * Math.cos(3.89922448206 + 40.3825906914 * t);
-        Y0 += 0.00000015843 * Math.cos(4.98899291519 + 72.577735496 * t);
-        Y0 += 0.00000020695 * Math.cos(3.75000782446 + 86.07111631471 * t);
-        Y0 += 0.00000015895 * Math.cos(4.16120885988 + 736.1203310153 * t);
-        Y0 += 0.00000014983 * Math.cos(0.56469438588 + 743.23387801611 * t);
-        Y0 += 0.00000014928 * Math.cos(5.49703861671 + 34.23225153711 * t);
-        Y0 += 0.00000015461 * Math.cos(4.47518787654 + 20.850745303 * t);
-        Y0 += 0.00000016206 * Math.cos(4.48895168117 + 138.76131435421 * t);
-        Y0 += 0.00000015978 * Math.cos(5.56972981392 + 515.70768857651 * t);
-        Y0 += 0.00000014173 * Math.cos(1.42508198977 + 99.1438060081 * t);
-        Y0 += 0.00000018749 * Math.cos(1.80466304752 + 54.5303628159 * t);
-        Y0 += 0.00000013971 * Math.cos(3.54176522468 + 76.77052119001 * t);
-        Y0 += 0.00000013971 * Math.cos(3.46018552739 + 76.2492563282 * t);
-        Y0 += 0.00000014035 * Math.cos(6.02847994013 + 235.68919520349 * t);
-        Y0 += 0.00000018894 * Math.cos(3.02786191873 + 31.4757544416 * t);
-        Y0 += 0.00000014967 * Math.cos(5.68342907224 + 52.3914988018 * t);
-        Y0 += 0.00000017392 * Math.cos(0.12268817693 + 74.0622082043 * t);
-        Y0 += 0.00000014788 * Math.cos(3.43864596335 + 56.01483552421 * t);
-        Y0 += 0.00000015758 * Math.cos(1.26184897401 + 208.8624922605 * t);
-        Y0 += 0.00000012911 * Math.cos(5.12673395733 + 42.5214547055 * t);
-        Y0 += 0.00000014356 * Math.cos(0.18539168671 + 251.8427048981 * t);
-        Y0 += 0.00000016266 * Math.cos(3.39270678896 + 853.4401992355 * t);
-        Y0 += 0.00000015513 * Math.cos(2.59603540214 + 59.038662695 * t);
-        Y0 += 0.00000012783 * Math.cos(0.77187700977 + 107.52937739611 * t);
-        Y0 += 0.00000016075 * Math.cos(0.02096626523 + 366.24181181149 * t);
-        Y0 += 0.00000014277 * Math.cos(3.31408666848 + 19.36627259471 * t);
-        Y0 += 0.00000014742 * Math.cos(6.26354356543 + 82.4477795923 * t);
-        Y0 += 0.00000015111 * Math.cos(5.70708654477 + 363.27286639489 * t);
-        Y0 += 0.00000014981 * Math.cos(1.17119164980 + 82.6145359311 * t);
-        Y0 += 0.00000014840 * Math.cos(5.34075197148 + 44.0541115236 * t);
-        Y0 += 0.00000015592 * Math.cos(5.74434423333 + 8.6293888715 * t);
-        Y0 += 0.00000014568 * Math.cos(0.45025790013 + 73.80157577341 * t);
-        Y0 += 0.00000012251 * Math.cos(5.90063123167 + 47.28368937111 * t);
-        Y0 += 0.00000011447 * Math.cos(5.62613164770 + 175.40987728371 * t);
-        Y0 += 0.00000013900 * Math.cos(0.93353054847 + 700.4204217173 * t);
-        Y0 += 0.00000015583 * Math.cos(5.46046493452 + 837.4534458797 * t);
-        Y0 += 0.00000012109 * Math.cos(0.53062884942 + 33.0084112597 * t);
-        Y0 += 0.00000012379 * Math.cos(0.87778018320 + 140.4125434013 * t);
-        Y0 += 0.00000011481 * Math.cos(3.65591005670 + 39.2069345238 * t);
-        Y0 += 0.00000011481 * Math.cos(0.68467720964 + 37.54677171881 * t);
-        Y0 += 0.00000011452 * Math.cos(5.92350892067 + 529.4135177163 * t);
-        Y0 += 0.00000010981 * Math.cos(1.58931744102 + 63.49208081989 * t);
-        Y0 += 0.00000012137 * Math.cos(0.75938098769 + 42.3090063844 * t);
-        Y0 += 0.00000013771 * Math.cos(2.92318261793 + 76.62176334371 * t);
-        Y0 += 0.00000011036 * Math.cos(1.59378256377 + 530.45604743991 * t);
-        Y0 += 0.00000011537 * Math.cos(2.72370023352 + 199.3158189199 * t);
-        Y0 += 0.00000011189 * Math.cos(1.67388131435 + 80.1332254815 * t);
-        Y0 += 0.00000012835 * Math.cos(2.83910944143 + 38.85242600079 * t);
-        Y0 += 0.00000012879 * Math.cos(0.03161787960 + 5.69407334969 * t);
-        Y0 += 0.00000013663 * Math.cos(4.69897705757 + 438.0544649622 * t);
-        Y0 += 0.00000010132 * Math.cos(2.80479631986 + 187.9400502559 * t);
-        Y0 += 0.00000012619 * Math.cos(3.09097380707 + 65.2035560643 * t);
-        Y0 += 0.00000010088 * Math.cos(1.41143864412 + 26.58288545949 * t);
-        Y0 += 0.00000011959 * Math.cos(1.19714206196 + 64.7159210973 * t);
-        Y0 += 0.00000011578 * Math.cos(5.81790016857 + 275.3067035496 * t);
-        Y0 += 0.00000012795 * Math.cos(1.66756565053 + 17.8817998864 * t);
-        Y0 += 0.00000013771 * Math.cos(4.07876849292 + 76.3980141745 * t);
-        Y0 += 0.00000010044 * Math.cos(1.67224715151 + 147.83490694279 * t);
-        Y0 += 0.00000013632 * Math.cos(1.29603813384 + 45.277951801 * t);
-        Y0 += 0.00000011660 * Math.cos(4.22880871720 + 143.9027536797 * t);
-        Y0 += 0.00000009938 * Math.cos(5.79050109000 + 6.86972951729 * t);
-        Y0 += 0.00000009719 * Math.cos(4.48706829937 + 956.53297345411 * t);
-        Y0 += 0.00000011441 * Math.cos(5.32553485636 + 533.8669358412 * t);
-        Y0 += 0.00000010240 * Math.cos(1.34767099242 + 80.7026744531 * t);
-        Y0 += 0.00000010031 * Math.cos(3.80995841826 + 43.74529498291 * t);
-        Y0 += 0.00000010063 * Math.cos(1.05825122331 + 0.27744737829 * t);
-        Y0 += 0.00000011428 * Math.cos(2.19933512981 + 526.00262931501 * t);
-        Y0 += 0.00000009279 * Math.cos(1.45482205447 + 79.6455905145 * t);
-        Y0 += 0.00000010172 * Math.cos(0.89461094062 + 568.0678182159 * t);
-        Y0 += 0.00000009198 * Math.cos(0.36520539350 + 112.6708167216 * t);
-        Y0 += 0.00000009831 * Math.cos(4.06082180622 + 20.9056270572 * t);
-        Y0 += 0.00000009830 * Math.cos(1.93960888370 + 544.1618765797 * t);
-        Y0 += 0.00000008646 * Math.cos(6.06265529598 + 30.7756711535 * t);
-        Y0 += 0.00000009315 * Math.cos(1.72769398395 + 65.63094483399 * t);
-        Y0 += 0.00000009201 * Math.cos(1.66299093770 + 184.48346987229 * t);
-        Y0 += 0.00000008674 * Math.cos(3.58250353029 + 624.1543504417 * t);
-        Y0 += 0.00000010739 * Math.cos(5.20958133978 + 331.56535655731 * t);
-        Y0 += 0.00000009612 * Math.cos(3.81549627985 + 182.00215942271 * t);
-        Y0 += 0.00000008664 * Math.cos(4.05357381243 + 1479.11039154791 * t);
-        Y0 += 0.00000008092 * Math.cos(4.08843223898 + 6.8360996225 * t);
-        Y0 += 0.00000010092 * Math.cos(0.00357719036 + 419.2408263917 * t);
-        Y0 += 0.00000010233 * Math.cos(0.16992310980 + 402.89037474099 * t);
-        Y0 += 0.00000008502 * Math.cos(3.60646753260 + 17.39416491939 * t);
-        Y0 += 0.00000010189 * Math.cos(1.01906004060 + 21.7020785649 * t);
-        Y0 += 0.00000009829 * Math.cos(3.66564448678 + 121.2352065359 * t);
-        Y0 += 0.00000008406 * Math.cos(4.04270651029 + 376.9150050599 * t);
-        Y0 += 0.00000008060 * Math.cos(4.05224638436 + 415.7963080956 * t);
-        Y0 += 0.00000009455 * Math.cos(1.63876624122 + 167.80869531589 * t);
-        Y0 += 0.00000007941 * Math.cos(6.14526289331 + 526.7533888404 * t);
-        Y0 += 0.00000007870 * Math.cos(1.33260101318 + 533.1161763158 * t);
-        Y0 += 0.00000007695 * Math.cos(2.49810660877 + 906.60597015449 * t);
-        Y0 += 0.00000007862 * Math.cos(5.62722995177 + 1265.81129610991 * t);
-        Y0 += 0.00000008062 * Math.cos(5.84124471296 + 105.7360881471 * t);
-        Y0 += 0.00000008904 * Math.cos(5.87904582316 + 399.9214293244 * t);
-        Y0 += 0.00000008050 * Math.cos(4.85961454632 + 143.8691237849 * t);
-        Y0 += 0.00000009102 * Math.cos(3.20438608836 + 348.17644063891 * t);
-        Y0 += 0.00000007137 * Math.cos(5.97349520503 + 117.5636857037 * t);
-        Y0 += 0.00000007076 * Math.cos(4.77037120491 + 26.84351789039 * t);
-        Y0 += 0.00000008418 * Math.cos(6.19754313245 + 77.73372903651 * t);
-        Y0 += 0.00000008257 * Math.cos(6.01515603184 + 117.77862615229 * t);
-        Y0 += 0.00000007868 * Math.cos(0.36467826737 + 288.4912678276 * t);
-        Y0 += 0.00000008093 * Math.cos(5.12697881207 + 1692.40948698591 * t);
-        Y0 += 0.00000006910 * Math.cos(5.16028730720 + 216.72430665921 * t);
-        Y0 += 0.00000007092 * Math.cos(1.58416634960 + 452.65981147369 * t);
-        Y0 += 0.00000007060 * Math.cos(3.50187723218 + 453.7023411973 * t);
-        Y0 += 0.00000008233 * Math.cos(5.07959772857 + 480.00777927849 * t);
-        Y0 += 0.00000006772 * Math.cos(2.89170457209 + 210.36151918381 * t);
-        Y0 += 0.00000007025 * Math.cos(6.13907268455 + 55.9029609396 * t);
-        Y0 += 0.00000008356 * Math.cos(3.67079730328 + 95.7354097343 * t);
-        Y0 += 0.00000007404 * Math.cos(5.71532443096 + 75.2860484817 * t);
-        Y0 += 0.00000006839 * Math.cos(2.57023077532 + 41.5125548767 * t);
-        Y0 += 0.00000007909 * Math.cos(0.07288588503 + 36.63174798211 * t);
-        Y0 += 0.00000007909 * Math.cos(1.12610872772 + 40.12195826051 * t);
-        Y0 += 0.00000006362 * Math.cos(4.97586429633 + 29.99128173331 * t);
-        Y0 += 0.00000006712 * Math.cos(2.41218446093 + 133.82026126229 * t);
-        Y0 += 0.00000007571 * Math.cos(1.24658605384 + 23.707816135 * t);
-        Y0 += 0.00000006677 * Math.cos(4.81403056382 + 1.20702533 * t);
-        Y0 += 0.00000007600 * Math.cos(1.64374414108 + 494.2348732801 * t);
-        Y0 += 0.00000008009 * Math.cos(1.96165940869 + 170.72945662269 * t);
-        Y0 += 0.00000007584 * Math.cos(1.33750538789 + 119.2630988606 * t);
-        Y0 += 0.00000006599 * Math.cos(0.68440943828 + 32.226513967 * t);
-        Y0 += 0.00000006085 * Math.cos(3.39985070945 + 322.00412900171 * t);
-        Y0 += 0.00000005953 * Math.cos(0.92774911672 + 52214.1831362697 * t);
-        Y0 += 0.00000007827 * Math.cos(4.85672910517 + 474.7030278917 * t);
-        Y0 += 0.00000007907 * Math.cos(6.03373097658 + 485.63685357099 * t);
-        Y0 += 0.00000007372 * Math.cos(3.31633214824 + 55.05162767771 * t);
-        Y0 += 0.00000006966 * Math.cos(4.03472609774 + 647.25465079831 * t);
-        Y0 += 0.00000006266 * Math.cos(1.06894881555 + 177.0611063308 * t);
-        Y0 += 0.00000005900 * Math.cos(0.21363873876 + 52061.16335875149 * t);
-        Y0 += 0.00000006221 * Math.cos(0.78444326027 + 602.00806815971 * t);
-        Y0 += 0.00000005552 * Math.cos(4.30656362928 + 223.1041404771 * t);
-        Y0 += 0.00000005976 * Math.cos(3.40178743225 + 10.8018827804 * t);
-        Y0 += 0.00000007600 * Math.cos(0.62565658069 + 488.6057989876 * t);
-        Y0 += 0.00000006831 * Math.cos(4.75854396498 + 1582.2031657665 * t);
-        Y0 += 0.00000005654 * Math.cos(1.46952482126 + 12604.5285531041 * t);
-        Y0 += 0.00000005798 * Math.cos(2.70754675899 + 27.4979091962 * t);
-        Y0 += 0.00000007216 * Math.cos(4.89431192173 + 739.0410923221 * t);
-        Y0 += 0.00000006579 * Math.cos(2.37730114095 + 2.69149803831 * t);
-        Y0 += 0.00000005758 * Math.cos(1.25264555408 + 30.0394658431 * t);
-        Y0 += 0.00000005270 * Math.cos(5.03822712313 + 6166.94845288619 * t);
-        Y0 += 0.00000007398 * Math.cos(2.15412967054 + 709.721016842 * t);
-        Y0 += 0.00000005679 * Math.cos(4.34696450423 + 17.22740858061 * t);
-        Y0 += 0.00000005205 * Math.cos(4.18097270804 + 426.3543733925 * t);
-        Y0 += 0.00000005146 * Math.cos(5.52411562781 + 46.7624245093 * t);
-        Y0 += 0.00000005694 * Math.cos(4.51992731423 + 168.98435148349 * t);
-        Y0 += 0.00000006627 * Math.cos(1.36429825841 + 221.13203280179 * t);
-        Y0 += 0.00000005443 * Math.cos(2.77787969707 + 525.7419968841 * t);
-        Y0 += 0.00000006475 * Math.cos(0.95284661304 + 591.07424248041 * t);
-        Y0 += 0.00000004984 * Math.cos(0.17849511014 + 10097.15814910579 * t);
-        Y0 += 0.00000005318 * Math.cos(3.65617684169 + 44.52719227561 * t);
-        Y0 += 0.00000006699 * Math.cos(1.37968332714 + 2157.1407134997 * t);
-        Y0 += 0.00000006443 * Math.cos(4.07988524250 + 675.0445615878 * t);
-        Y0 += 0.00000005078 * Math.cos(2.53592755854 + 101.62511645769 * t);
-        Y0 += 0.00000005394 * Math.cos(5.60187660250 + 368.21391948681 * t);
-        Y0 += 0.00000005072 * Math.cos(4.09677163290 + 272.33775813299 * t);
-        Y0 += 0.00000005208 * Math.cos(2.96070554414 + 277.2788112249 * t);
-        Y0 += 0.00000005332 * Math.cos(2.85701594895 + 280.9357778421 * t);
-        Y0 += 0.00000005989 * Math.cos(1.18032513011 + 93.0270967486 * t);
-        Y0 += 0.00000006329 * Math.cos(2.06650240521 + 18.87863762769 * t);
-        Y0 += 0.00000005551 * Math.cos(0.99966130596 + 57.3874336479 * t);
-        Y0 += 0.00000006471 * Math.cos(4.75702433578 + 68.1243173711 * t);
-        Y0 += 0.00000004708 * Math.cos(3.81000728156 + 95.68722562449 * t);
-        Y0 += 0.00000005891 * Math.cos(4.39361748912 + 381.5954257209 * t);
-        Y0 += 0.00000004717 * Math.cos(5.88762112195 + 104.2852453336 * t);
-        Y0 += 0.00000005675 * Math.cos(0.14149668499 + 1165.6392831981 * t);
-        Y0 += 0.00000005888 * Math.cos(2.00299136957 + 42.34263627919 * t);
-        Y0 += 0.00000005587 * Math.cos(2.52090459839 + 459.6066021357 * t);
-        Y0 += 0.00000005456 * Math.cos(3.07944464122 + 75.50098893029 * t);
-        Y0 += 0.00000005940 * Math.cos(4.70996040917 + 6318.4837576961 * t);
-        Y0 += 0.00000005207 * Math.cos(6.12213701959 + 436.5699922539 * t);
-        Y0 += 0.00000006160 * Math.cos(3.18966815531 + 749.82616015511 * t);
-        Y0 += 0.00000006137 * Math.cos(3.02268593798 + 713.17759722561 * t);
-        Y0 += 0.00000004547 * Math.cos(3.96298179960 + 32.47259218289 * t);
-        Y0 += 0.00000005246 * Math.cos(0.26649341993 + 109.9625037359 * t);
-        Y0 += 0.00000005244 * Math.cos(0.76595138199 + 73.5891274523 * t);
-        Y0 += 0.00000005572 * Math.cos(4.54958395511 + 102.11275142471 * t);
-        Y0 += 0.00000005638 * Math.cos(6.13292790226 + 10248.6934539157 * t);
-        Y0 += 0.00000004513 * Math.cos(0.05769066183 + 1272.9248431107 * t);
-        Y0 += 0.00000004340 * Math.cos(3.93529499489 + 384.02855206069 * t);
-        Y0 += 0.00000004263 * Math.cos(5.81710901839 + 1577.52274510549 * t);
-        Y0 += 0.00000005964 * Math.cos(3.35563503899 + 786.47472308461 * t);
-        Y0 += 0.00000004962 * Math.cos(1.38600480216 + 257.78059573129 * t);
-        Y0 += 0.00000005327 * Math.cos(4.13135597763 + 107.74182571721 * t);
-        Y0 += 0.00000005572 * Math.cos(5.58677005833 + 291.2934569054 * t);
-        Y0 += 0.00000004336 * Math.cos(1.08874295813 + 53.40958840249 * t);
-        Y0 += 0.00000004427 * Math.cos(1.43077618159 + 189.42452296421 * t);
-        Y0 += 0.00000004157 * Math.cos(5.03727532307 + 29.5036467663 * t);
-        Y0 += 0.00000004646 * Math.cos(4.44853801893 + 13285.93981804009 * t);
-        Y0 += 0.00000005507 * Math.cos(2.70385106164 + 178.11819026941 * t);
-        Y0 += 0.00000005348 * Math.cos(6.13707191030 + 24.88347230261 * t);
-        Y0 += 0.00000005339 * Math.cos(5.48920294964 + 314.6635794648 * t);
-        Y0 += 0.00000004678 * Math.cos(6.00688425085 + 1474.4299708869 * t);
-        Y0 += 0.00000004090 * Math.cos(4.92713296866 + 765.3801602981 * t);
-        Y0 += 0.00000005008 * Math.cos(4.28621887979 + 352.06040979221 * t);
-        Y0 += 0.00000005562 * Math.cos(5.12126233744 + 6248.1555772537 * t);
-        Y0 += 0.00000004983 * Math.cos(1.59156517574 + 1055.43296197871 * t);
-        Y0 += 0.00000004566 * Math.cos(0.54461731254 + 325.1398307571 * t);
-        Y0 += 0.00000005327 * Math.cos(0.54108371123 + 439.53893767049 * t);
-        Y0 += 0.00000005121 * Math.cos(4.27746071897 + 711.6931245173 * t);
-        Y0 += 0.00000004181 * Math.cos(2.68829223641 + 6606.1994373488 * t);
-        Y0 += 0.00000004293 * Math.cos(3.08794166207 + 46.71424039951 * t);
-        Y0 += 0.00000005532 * Math.cos(2.10559407460 + 320.03202132639 * t);
-        Y0 += 0.00000004492 * Math.cos(4.81151725335 + 52177.53457334019 * t);
-        Y0 += 0.00000004312 * Math.cos(6.10122311855 + 22.8777347325 * t);
-        Y0 += 0.00000005332 * Math.cos(0.25990559894 + 10178.3652734733 * t);
-        Y0 += 0.00000004593 * Math.cos(4.86059649000 + 1025.6854977289 * t);
-        Y0 += 0.00000005439 * Math.cos(3.52367947540 + 823.12328601411 * t);
-        Y0 += 0.00000003870 * Math.cos(2.70915745235 + 1596.43025976811 * t);
-        Y0 += 0.00000003892 * Math.cos(0.54485159298 + 226.07308589371 * t);
-        Y0 += 0.00000004891 * Math.cos(4.37893659385 + 8.1417539045 * t);
-        Y0 += 0.00000004689 * Math.cos(5.09142557332 + 276.79117625789 * t);
-        Y0 += 0.00000004268 * Math.cos(1.02189794794 + 374.15181032 * t);
-        Y0 += 0.00000003828 * Math.cos(3.85156237339 + 2138.2331988371 * t);
-        Y0 += 0.00000004592 * Math.cos(2.30447944615 + 1376.0176173293 * t);
-        Y0 += 0.00000004629 * Math.cos(5.68948058955 + 122.71967924421 * t);
-        Y0 += 0.00000003871 * Math.cos(1.60468692916 + 531.4192552864 * t);
-        Y0 += 0.00000004995 * Math.cos(5.03302660981 + 32.69959471901 * t);
-        Y0 += 0.00000004711 * Math.cos(5.14987215661 + 52252.31617190749 * t);
-        Y0 += 0.00000003893 * Math.cos(1.69554966790 + 116.294153444 * t);
-        Y0 += 0.00000004481 * Math.cos(3.09400209140 + 53.0458901076 * t);
-        Y0 += 0.00000004136 * Math.cos(1.02307294098 + 503.1080796351 * t);
-        Y0 += 0.00000004508 * Math.cos(2.81495366139 + 562.12992738271 * t);
-        Y0 += 0.00000005025 * Math.cos(1.96944866339 + 283.38345839689 * t);
-        Y0 += 0.00000004789 * Math.cos(1.11612617111 + 627.7228054099 * t);
-        Y0 += 0.00000004021 * Math.cos(1.71534059601 + 6603.23049193219 * t);
-        Y0 += 0.00000005163 * Math.cos(0.06221778581 + 25519.83532335829 * t);
-        Y0 += 0.00000004150 * Math.cos(2.29239909221 + 27.443027442 * t);
-        Y0 += 0.00000003623 * Math.cos(0.72377687032 + 1665.5827840429 * t);
-        Y0 += 0.00000004634 * Math.cos(3.36220803589 + 3227.45397501119 * t);
-        Y0 += 0.00000004060 * Math.cos(4.64578985602 + 304.4780211834 * t);
-        Y0 += 0.00000003862 * Math.cos(5.22051626712 + 74.504151189 * t);
-        Y0 += 0.00000003561 * Math.cos(3.35891592080 + 358.6526919312 * t);
-        Y0 += 0.00000004557 * Math.cos(1.56282166634 + 25974.74468988559 * t);
-        Y0 += 0.00000004264 * Math.cos(3.13963744879 + 634.93941827469 * t);
-        Y0 += 0.00000004482 * Math.cos(0.13471172639 + 342.61105682121 * t);
-        Y0 += 0.00000003539 * Math.cos(5.28146842802 + 119.7507338276 * t);
-        Y0 += 0.00000004304 * Math.cos(5.35023544496 + 12567.8799901746 * t);
-        Y0 += 0.00000004138 * Math.cos(5.60646772527 + 107.2541907502 * t);
-        Y0 += 0.00000004284 * Math.cos(1.62500514182 + 294.42915866079 * t);
-        Y0 += 0.00000003723 * Math.cos(0.87405503812 + 987.325459555 * t);
-        Y0 += 0.00000003723 * Math.cos(4.01564769171 + 987.813094522 * t);
-        Y0 += 0.00000004606 * Math.cos(0.78314632413 + 14.42521950279 * t);
-        Y0 += 0.00000004236 * Math.cos(1.51001695106 + 155.9116617901 * t);
-        Y0 += 0.00000004458 * Math.cos(1.07510939804 + 395.8225197225 * t);
-        Y0 += 0.00000004798 * Math.cos(3.66850235979 + 530.195415009 * t);
-        Y0 += 0.00000003640 * Math.cos(3.79814548576 + 2564.8313897131 * t);
-        Y0 += 0.00000003563 * Math.cos(0.66220700888 + 12451.50877558589 * t);
-        Y0 += 0.00000003443 * Math.cos(3.70889407011 + 245.2504227591 * t);
-        Y0 += 0.00000003429 * Math.cos(3.16343780315 + 530.0466571627 * t);
-        Y0 += 0.00000003872 * Math.cos(5.66297097129 + 308.98632106249 * t);
-        Y0 += 0.00000003406 * Math.cos(4.31900232100 + 529.82290799351 * t);
-        Y0 += 0.00000004348 * Math.cos(3.09499292675 + 20311.92816802509 * t);
-        Y0 += 0.00000004589 * Math.cos(3.67073392808 + 181.08713568601 * t);
-        Y0 += 0.00000003854 * Math.cos(4.35430550499 + 12564.91104475801 * t);
-        Y0 += 0.00000003789 * Math.cos(5.86431526205 + 3101.6359018085 * t);
-        Y0 += 0.00000003783 * Math.cos(1.84016316657 + 1614.17130803499 * t);
-        Y0 += 0.00000003904 * Math.cos(1.57500723101 + 369.8014580591 * t);
-        Y0 += 0.00000003765 * Math.cos(3.13810202386 + 1025.94613015981 * t);
-        Y0 += 0.00000004231 * Math.cos(3.78834664840 + 31.52393855141 * t);
-        Y0 += 0.00000004303 * Math.cos(3.40265517593 + 396.785727569 * t);
-        Y0 += 0.00000004085 * Math.cos(0.23841437878 + 14.47091148511 * t);
-        Y0 += 0.00000004085 * Math.cos(3.38000703237 + 13.9832765181 * t);
-        Y0 += 0.00000003346 * Math.cos(0.20283168925 + 20351.54567637119 * t);
-        Y0 += 0.00000004021 * Math.cos(4.51457854549 + 748.3416874468 * t);
-        Y0 += 0.00000003753 * Math.cos(2.74283876055 + 524.99372948619 * t);
-        Y0 += 0.00000003935 * Math.cos(2.81201754924 + 1617.14025345159 * t);
-        Y0 += 0.00000004432 * Math.cos(5.02857999493 + 511.3515908212 * t);
-        Y0 += 0.00000004170 * Math.cos(2.85784811733 + 274.87931477991 * t);
-        Y0 += 0.00000003317 * Math.cos(3.36427187559 + 266.70868384049 * t);
-        Y0 += 0.00000004545 * Math.cos(2.99451528962 + 244.5624015585 * t);
-        Y0 += 0.00000003589 * Math.cos(6.26623778468 + 59.526297662 * t);
-        Y0 += 0.00000003464 * Math.cos(1.94815791367 + 102.27950776349 * t);
-        Y0 += 0.00000004526 * Math.cos(2.98322850842 + 525.7901809939 * t);
-        Y0 += 0.00000004603 * Math.cos(2.83181132811 + 26088.1469590577 * t);
-        Y0 += 0.00000004021 * Math.cos(3.81502221170 + 52174.56562792359 * t);
-        Y0 += 0.00000003276 * Math.cos(3.52742657818 + 1306.3774580875 * t);
-        Y0 += 0.00000003214 * Math.cos(5.51315121035 + 20348.57673095459 * t);
-        Y0 += 0.00000003706 * Math.cos(3.68281338464 + 27.07052042651 * t);
-        Y0 += 0.00000003759 * Math.cos(5.89324799399 + 164.83974989929 * t);
-        Y0 += 0.00000003184 * Math.cos(0.44574677170 + 538.0115374254 * t);
-        Y0 += 0.00000004430 * Math.cos(3.80837870078 + 529.6741501472 * t);
-        Y0 += 0.00000004064 * Math.cos(2.60402368915 + 6130.2998899567 * t);
-        Y0 += 0.00000003918 * Math.cos(5.77655218093 + 375.43053235159 * t);
-        Y0 += 0.00000004058 * Math.cos(3.56233663362 + 433.4342904985 * t);
-        Y0 += 0.00000003919 * Math.cos(1.93774102166 + 1092.8177302186 * t);
-        Y0 += 0.00000003919 * Math.cos(5.07933367525 + 1093.3053651856 * t);
-        Y0 += 0.00000003175 * Math.cos(2.71648311000 + 241.3664536058 * t);
-        Y0 += 0.00000003135 * Math.cos(1.09798751738 + 127.22797912329 * t);
-        Y0 += 0.00000003834 * Math.cos(3.42021462454 + 14.3133449182 * t);
-        Y0 += 0.00000004022 * Math.cos(0.15000192924 + 1477.8383671607 * t);
-        Y0 += 0.00000003221 * Math.cos(2.66340709341 + 78.1611178062 * t);
-        Y0 += 0.00000003426 * Math.cos(4.77405099085 + 519.8522901607 * t);
-        Y0 += 0.00000004369 * Math.cos(2.32053270413 + 746.3695797715 * t);
-        Y0 += 0.00000003160 * Math.cos(3.58900877772 + 664.99569906519 * t);
-        Y0 += 0.00000004060 * Math.cos(4.49008083850 + 51.87023394 * t);
-        Y0 += 0.00000003107 * Math.cos(3.81160836398 + 28.9275001503 * t);
-        Y0 += 0.00000003259 * Math.cos(0.91022076156 + 657.8821520644 * t);
-        Y0 += 0.00000003428 * Math.cos(2.81213415208 + 2351.5322942751 * t);
-        Y0 += 0.00000003235 * Math.cos(0.07612839981 + 406.3469551246 * t);
-        Y0 += 0.00000003161 * Math.cos(0.98519827646 + 982.8720414301 * t);
-        Y0 += 0.00000004351 * Math.cos(2.61742468676 + 20388.19423930069 * t);
-        Y0 += 0.00000003384 * Math.cos(1.87729416709 + 660.851097481 * t);
-        Y0 += 0.00000003452 * Math.cos(5.96738985165 + 326.1823604807 * t);
-        Y0 += 0.00000003298 * Math.cos(1.72568702486 + 1403.84115801359 * t);
-        Y0 += 0.00000003278 * Math.cos(5.26025413610 + 941.7700603757 * t);
-        Y0 += 0.00000003723 * Math.cos(0.29723150363 + 451.9572360581 * t);
-        Y0 += 0.00000003173 * Math.cos(0.75401885480 + 1400.87221259699 * t);
-        Y0 += 0.00000004113 * Math.cos(3.44518846630 + 1049.31625271919 * t);
-        Y0 += 0.00000004012 * Math.cos(0.58002417229 + 52.6039471229 * t);
-        Y0 += 0.00000004142 * Math.cos(0.18543891861 + 978.6792557361 * t);
-        Y0 += 0.00000004295 * Math.cos(2.94382365877 + 875.58648151749 * t);
-        Y0 += 0.00000003224 * Math.cos(5.39074920150 + 459.1189671687 * t);
-        Y0 += 0.00000003151 * Math.cos(2.11925788926 + 381.8560581518 * t);
-        Y0 += 0.00000003633 * Math.cos(6.09798622690 + 256.78375799 * t);
-        Y0 += 0.00000004250 * Math.cos(4.81834414256 + 528.71094230071 * t);
-        Y0 += 0.00000004186 * Math.cos(3.66267284521 + 943.25453308399 * t);
-        Y0 += 0.00000003406 * Math.cos(1.82206499429 + 170.46882419179 * t);
-        Y0 += 0.00000003231 * Math.cos(6.18447276533 + 400.8209466961 * t);
-        Y0 += 0.00000003726 * Math.cos(5.26557613435 + 1096.48675892331 * t);
-        Y0 += 0.00000003792 * Math.cos(5.46702979448 + 111.9346114112 * t);
-        Y0 += 0.00000003651 * Math.cos(6.14012974300 + 154.42718908179 * t);
-        Y0 += 0.00000003839 * Math.cos(4.02729058795 + 10060.50958617629 * t);
-        Y0 += 0.00000003356 * Math.cos(5.33785023580 + 1586.34776735071 * t);
-        Y0 += 0.00000003219 * Math.cos(1.26547692662 + 213.7096692603 * t);
-        Y0 += 0.00000003671 * Math.cos(3.08823320781 + 57.6023740965 * t);
-        Y0 += 0.00000004187 * Math.cos(1.86321883254 + 2772.54460848389 * t);
-        Y0 += 0.00000002960 * Math.cos(3.77221652347 + 2461.7386154945 * t);
-        Y0 += 0.00000003331 * Math.cos(2.38361288630 + 10133.80671203529 * t);
-        Y0 += 0.00000003341 * Math.cos(2.74911210318 + 243.7659500508 * t);
-        Y0 += 0.00000003466 * Math.cos(0.02652921265 + 1150.92455422949 * t);
-        Y0 += 0.00000003296 * Math.cos(5.06897390591 + 1653.78881638109 * t);
-        Y0 += 0.00000003014 * Math.cos(3.47171849350 + 1477.3989163035 * t);
-        Y0 += 0.00000004118 * Math.cos(1.26070911091 + 25596.5890296009 * t);
-        Y0 += 0.00000002951 * Math.cos(3.47218747597 + 42.78208713641 * t);
-        Y0 += 0.00000002951 * Math.cos(4.00999244396 + 33.9716191062 * t);
-        Y0 += 0.00000003830 * Math.cos(3.02640541849 + 323.48860171 * t);
-        Y0 += 0.00000003313 * Math.cos(3.21919687279 + 939.1099314998 * t);
-        Y0 += 0.00000003031 * Math.cos(4.32205791511 + 156450.90896068608 * t);
-        Y0 += 0.00000003606 * Math.cos(2.35740018537 + 1082.2596649217 * t);
-        Y0 += 0.00000002967 * Math.cos(4.72619454182 + 6.3941566378 * t);
-        Y0 += 0.00000002995 * Math.cos(5.12808890644 + 139.7099679857 * t);
-        Y0 += 0.00000003251 * Math.cos(1.93107151339 + 709.29362807231 * t);
-        Y0 += 0.00000003480 * Math.cos(2.18796105799 + 518.1408149163 * t);
-        Y0 += 0.00000003906 * Math.cos(4.41951013162 + 1119.90506559249 * t);
-        Y0 += 0.00000003406 * Math.cos(3.42602191152 + 148.79811478929 * t);
-        Y0 += 0.00000003359 * Math.cos(0.17159576955 + 642.8494167832 * t);
-        Y0 += 0.00000003027 * Math.cos(5.00980281133 + 184.0078969928 * t);
-        Y0 += 0.00000002918 * Math.cos(0.68786396977 + 83.6234357599 * t);
-        Y0 += 0.00000003347 * Math.cos(4.53587187847 + 217.68751450571 * t);
-        Y0 += 0.00000003277 * Math.cos(1.84412902317 + 912.5438609877 * t);
-        Y0 += 0.00000003277 * Math.cos(4.98572167676 + 913.03149595471 * t);
-        Y0 += 0.00000003196 * Math.cos(4.27207353253 + 363.1061100561 * t);
-        Y0 += 0.00000002869 * Math.cos(2.93254803921 + 285.35556607221 * t);
-        Y0 += 0.00000003158 * Math.cos(5.89391855080 + 540.01727499551 * t);
-        Y0 += 0.00000002810 * Math.cos(3.57723287116 + 1592.2856581839 * t);
-        Y0 += 0.00000003471 * Math.cos(4.56081319778 + 144.39038864671 * t);
-        Y0 += 0.00000003159 * Math.cos(5.71530971815 + 197.5561595657 * t);
-        Y0 += 0.00000003227 * Math.cos(1.02602355265 + 6203.5970158157 * t);
-        Y0 += 0.00000003750 * Math.cos(1.09900342443 + 303.35724676999 * t);
-        Y0 += 0.00000003848 * Math.cos(4.95190461444 + 26048.04181574459 * t);
-        Y0 += 0.00000002741 * Math.cos(0.13004673727 + 70.8326303568 * t);
-        Y0 += 0.00000002826 * Math.cos(3.64821843137 + 460.2946233363 * t);
-        Y0 += 0.00000002748 * Math.cos(5.69617268740 + 600.52359545141 * t);
-        Y0 += 0.00000003057 * Math.cos(4.56550138397 + 23.81969071961 * t);
-        Y0 += 0.00000003057 * Math.cos(6.05827118955 + 52.934015523 * t);
-        Y0 += 0.00000003446 * Math.cos(1.96967013470 + 500.1391342185 * t);
-        Y0 += 0.00000002703 * Math.cos(6.26272265860 + 908.0904428628 * t);
-        Y0 += 0.00000002817 * Math.cos(1.69638906604 + 210.6221516147 * t);
-        Y0 += 0.00000002848 * Math.cos(1.16888883373 + 450.4727633498 * t);
-        Y0 += 0.00000002724 * Math.cos(5.64910484087 + 23.18655127321 * t);
-        Y0 += 0.00000002905 * Math.cos(1.13800629851 + 149.3193796511 * t);
-        Y0 += 0.00000002848 * Math.cos(1.48842245891 + 622.66987773339 * t);
-        Y0 += 0.00000002733 * Math.cos(1.93636126616 + 262.72164882321 * t);
-        Y0 += 0.00000002863 * Math.cos(2.26914213515 + 175.57663362249 * t);
-        Y0 += 0.00000002681 * Math.cos(5.83048409789 + 25.1922888433 * t);
-        Y0 += 0.00000002822 * Math.cos(0.00883588585 + 259.7527034066 * t);
-        Y0 += 0.00000003174 * Math.cos(1.47302873031 + 347.1193567003 * t);
-        Y0 += 0.00000003271 * Math.cos(2.97328046332 + 458.5977023069 * t);
-        Y0 += 0.00000002894 * Math.cos(5.75207939107 + 71.82946809809 * t);
-        Y0 += 0.00000003490 * Math.cos(1.28003658954 + 664.3713683394 * t);
-        Y0 += 0.00000003506 * Math.cos(3.91611653269 + 771.3481117113 * t);
-        Y0 += 0.00000003326 * Math.cos(0.55224065588 + 45.2297676912 * t);
-        Y0 += 0.00000002988 * Math.cos(4.94563705230 + 299.37021175271 * t);
-        Y0 += 0.00000002916 * Math.cos(5.17859920603 + 6642.8480002783 * t);
-        Y0 += 0.00000002916 * Math.cos(5.17859920603 + 6643.3356352453 * t);
-        Y0 += 0.00000002630 * Math.cos(5.83933407803 + 2751.79141717511 * t);
-        Y0 += 0.00000002903 * Math.cos(5.88134941337 + 477.08701797169 * t);
-        Y0 += 0.00000002804 * Math.cos(4.97695491059 + 6681.46867088311 * t);
-        Y0 += 0.00000002622 * Math.cos(0.73099530901 + 521.8580277308 * t);
-        Y0 += 0.00000002606 * Math.cos(1.44468831628 + 410.8552550037 * t);
-        Y0 += 0.00000003046 * Math.cos(0.79307135358 + 959.45373476091 * t);
-        Y0 += 0.00000003127 * Math.cos(1.47432830628 + 225.5518210319 * t);
-        Y0 += 0.00000002700 * Math.cos(2.88388264285 + 963.6465204549 * t);
-        Y0 += 0.00000002778 * Math.cos(3.22939757518 + 238.39750818919 * t);
-        Y0 += 0.00000003029 * Math.cos(0.01392036536 + 473.2185551834 * t);
-        Y0 += 0.00000002671 * Math.cos(3.02950363348 + 531.9405201482 * t);
-        Y0 += 0.00000002914 * Math.cos(2.29089443923 + 554.31380496631 * t);
-        Y0 += 0.00000003087 * Math.cos(1.37613019083 + 340.2664421304 * t);
-        Y0 += 0.00000003438 * Math.cos(3.89546045811 + 6171.40187101109 * t);
-        Y0 += 0.00000002879 * Math.cos(4.04729837696 + 218.6507223522 * t);
-        Y0 += 0.00000003140 * Math.cos(3.44921752602 + 609.1216151605 * t);
-        Y0 += 0.00000003003 * Math.cos(5.24831469226 + 464.97504399731 * t);
-        Y0 += 0.00000003257 * Math.cos(6.23715182295 + 305.96249389171 * t);
-        Y0 += 0.00000003211 * Math.cos(0.93594149210 + 416.532513406 * t);
-        Y0 += 0.00000003265 * Math.cos(6.26189223545 + 24.7347144563 * t);
-        Y0 += 0.00000002644 * Math.cos(5.73202797797 + 508.5941415757 * t);
-        Y0 += 0.00000002764 * Math.cos(0.26986971158 + 410.59462257279 * t);
-        Y0 += 0.00000003428 * Math.cos(0.99849665750 + 1012.6195056799 * t);
-        Y0 += 0.00000002614 * Math.cos(2.50560328703 + 213.5910970313 * t);
-        Y0 += 0.00000003469 * Math.cos(3.71563719744 + 24.14975911971 * t);
-        Y0 += 0.00000002606 * Math.cos(5.52398994555 + 213.4947288117 * t);
-        Y0 += 0.00000003444 * Math.cos(0.99352524535 + 891.57323487331 * t);
-        Y0 += 0.00000002540 * Math.cos(5.89247404448 + 564.8718702632 * t);
-        Y0 += 0.00000002540 * Math.cos(2.75088139089 + 565.35950523021 * t);
-        Y0 += 0.00000002754 * Math.cos(4.26615188091 + 57.5541899867 * t);
-        Y0 += 0.00000002531 * Math.cos(2.16100356086 + 800.5924346291 * t);
-        Y0 += 0.00000002557 * Math.cos(2.24078889519 + 341.49028240779 * t);
-        Y0 += 0.00000002601 * Math.cos(2.97805958626 + 261.2371761149 * t);
-        Y0 += 0.00000003027 * Math.cos(1.77262933089 + 331.07772159029 * t);
-        Y0 += 0.00000002494 * Math.cos(5.29381091116 + 203.9816853659 * t);
-        Y0 += 0.00000002590 * Math.cos(3.33405614398 + 1190.5420625756 * t);
-        Y0 += 0.00000003494 * Math.cos(1.33796606005 + 534.0793841623 * t);
-        Y0 += 0.00000003144 * Math.cos(1.59061342897 + 1503.9649868156 * t);
-        Y0 += 0.00000002818 * Math.cos(2.04818816564 + 49.31067880061 * t);
-        Y0 += 0.00000002791 * Math.cos(2.91527039269 + 288.32451148881 * t);
-        Y0 += 0.00000002471 * Math.cos(2.80089246981 + 411.11588743459 * t);
-        Y0 += 0.00000003059 * Math.cos(1.73898053758 + 172.48911597691 * t);
-        Y0 += 0.00000002972 * Math.cos(5.01468129705 + 569.29165849331 * t);
-        Y0 += 0.00000003418 * Math.cos(3.83213917567 + 638.3959986583 * t);
-        Y0 += 0.00000002541 * Math.cos(3.41936535077 + 1448.09090291091 * t);
-        Y0 += 0.00000002663 * Math.cos(5.14390724060 + 573.6968925084 * t);
-        Y0 += 0.00000002439 * Math.cos(2.82552552997 + 1625.9652756968 * t);
-        Y0 += 0.00000002739 * Math.cos(1.01296407856 + 112.8832650427 * t);
-        Y0 += 0.00000002821 * Math.cos(4.09784112299 + 402.93606672331 * t);
-        Y0 += 0.00000003412 * Math.cos(5.98246878418 + 772.8325844196 * t);
-        Y0 += 0.00000002624 * Math.cos(4.28449219810 + 1624.4808029885 * t);
-        Y0 += 0.00000003170 * Math.cos(2.10762429629 + 1011.13503297159 * t);
-        Y0 += 0.00000002908 * Math.cos(3.03870325402 + 635.94831810351 * t);
-        Y0 += 0.00000002664 * Math.cos(4.25083112029 + 409.41896640519 * t);
-        Y0 += 0.00000003091 * Math.cos(0.31165645931 + 379.25961975071 * t);
-        Y0 += 0.00000003301 * Math.cos(3.48430565498 + 19.7936613644 * t);
-        Y0 += 0.00000003176 * Math.cos(4.86809762289 + 300.9095662152 * t);
-        Y0 += 0.00000003022 * Math.cos(4.37742921398 + 52.0189917863 * t);
-        Y0 += 0.00000002890 * Math.cos(6.24788645936 + 293.4323209195 * t);
-        Y0 += 0.00000002698 * Math.cos(3.26450368524 + 78149.06650032569 * t);
-        Y0 += 0.00000002558 * Math.cos(2.31657732137 + 1371.3371966683 * t);
-        Y0 += 0.00000002619 * Math.cos(5.37658613752 + 202.0095776906 * t);
-        Y0 += 0.00000003176 * Math.cos(5.32134696018 + 10101.61156723069 * t);
-        Y0 += 0.00000003341 * Math.cos(3.91159951862 + 345.8955164229 * t);
-        Y0 += 0.00000002373 * Math.cos(0.25236813570 + 130.8513158457 * t);
-        Y0 += 0.00000002644 * Math.cos(4.25178872695 + 305.10235190919 * t);
-        Y0 += 0.00000003339 * Math.cos(3.06224357085 + 2849.2983147265 * t);
-        Y0 += 0.00000002410 * Math.cos(3.15243245459 + 951.8525527931 * t);
-        Y0 += 0.00000003303 * Math.cos(3.82850925169 + 769.5729459921 * t);
-        Y0 += 0.00000003302 * Math.cos(3.28815049288 + 90.1520274241 * t);
-        Y0 += 0.00000002416 * Math.cos(4.43555947495 + 527.929045008 * t);
-        Y0 += 0.00000002361 * Math.cos(0.63550285699 + 905.1214974462 * t);
-        Y0 += 0.00000002737 * Math.cos(3.20111311776 + 1206.2199993907 * t);
-        Y0 += 0.00000002441 * Math.cos(5.40055208431 + 246.73489546739 * t);
-        Y0 += 0.00000002441 * Math.cos(5.40055208431 + 247.2225304344 * t);
-        Y0 += 0.00000002957 * Math.cos(2.68753178821 + 238.23075185041 * t);
-        Y0 += 0.00000003263 * Math.cos(2.55710522617 + 1506.93393223219 * t);
-        Y0 += 0.00000003293 * Math.cos(1.22031676357 + 66.1522096958 * t);
-        Y0 += 0.00000003241 * Math.cos(5.00885682863 + 978.4186233052 * t);
-        Y0 += 0.00000003149 * Math.cos(2.07892234370 + 271.9103693633 * t);
-        Y0 += 0.00000003149 * Math.cos(5.22051499729 + 271.4227343963 * t);
-        Y0 += 0.00000002328 * Math.cos(0.36371018198 + 31.73887900 * t);
-        Y0 += 0.00000002372 * Math.cos(2.25731707420 + 309.0345051723 * t);
-        Y0 += 0.00000002372 * Math.cos(2.25731707420 + 309.5221401393 * t);
-        Y0 += 0.00000002369 * Math.cos(5.90092450419 + 418.9801939608 * t);
-        Y0 += 0.00000003007 * Math.cos(6.21088893213 + 1437.7814079574 * t);
-        Y0 += 0.00000003034 * Math.cos(4.41266493573 + 330.8627811417 * t);
-        Y0 += 0.00000002345 * Math.cos(4.37756786631 + 453.9318358609 * t);
-        Y0 += 0.00000003118 * Math.cos(5.30478414038 + 1434.81246254079 * t);
-        Y0 += 0.00000002324 * Math.cos(5.43011369487 + 495.2462652364 * t);
-        Y0 += 0.00000002340 * Math.cos(0.70753572900 + 452.43031681009 * t);
-        Y0 += 0.00000002336 * Math.cos(1.61735465920 + 189.591279303 * t);
-        Y0 += 0.00000002920 * Math.cos(2.21678930184 + 1549.69920442121 * t);
-        Y0 += 0.00000002494 * Math.cos(2.36432658211 + 1187.57311715899 * t);
-        Y0 += 0.00000002692 * Math.cos(5.74887255496 + 425.13053311509 * t);
-        Y0 += 0.00000002874 * Math.cos(3.06187769177 + 1654.2764513481 * t);
-        Y0 += 0.00000002809 * Math.cos(0.95838272583 + 317.5843407716 * t);
-        Y0 += 0.00000002735 * Math.cos(2.36910571540 + 1513.05064149171 * t);
-        Y0 += 0.00000002949 * Math.cos(4.69913732218 + 186.71620997851 * t);
-        Y0 += 0.00000002320 * Math.cos(2.31406529898 + 487.38195871019 * t);
-        Y0 += 0.00000003113 * Math.cos(4.63822476931 + 353.28425006961 * t);
-        Y0 += 0.00000003086 * Math.cos(3.30396670519 + 1230.5990217789 * t);
-        Y0 += 0.00000002722 * Math.cos(0.59415160235 + 49.6831858161 * t);
-        Y0 += 0.00000003064 * Math.cos(2.11685584705 + 133.13224006171 * t);
-        Y0 += 0.00000003064 * Math.cos(5.25844850064 + 132.64460509469 * t);
-        Y0 += 0.00000002470 * Math.cos(1.21163683322 + 532.3824631329 * t);
-        Y0 += 0.00000002640 * Math.cos(5.23029870928 + 394.33804701421 * t);
-        Y0 += 0.00000002252 * Math.cos(3.41692637069 + 22.6507321964 * t);
-        Y0 += 0.00000003151 * Math.cos(3.68959728933 + 859.77184894361 * t);
-        Y0 += 0.00000002671 * Math.cos(2.49225273236 + 37.3679532925 * t);
-        Y0 += 0.00000002380 * Math.cos(2.43767088034 + 429.2751346993 * t);
-        Y0 += 0.00000002655 * Math.cos(4.29167785274 + 484.1523808627 * t);
-        Y0 += 0.00000003005 * Math.cos(4.59447567553 + 1929.33933741419 * t);
-        Y0 += 0.00000002550 * Math.cos(0.89259009595 + 496.9431862658 * t);
-        Y0 += 0.00000002290 * Math.cos(4.98199823333 + 455.18681390559 * t);
-        Y0 += 0.00000002608 * Math.cos(2.28446271246 + 422.9580392062 * t);
-        Y0 += 0.00000002226 * Math.cos(0.52897898579 + 47.82620609231 * t);
-        Y0 += 0.00000002233 * Math.cos(3.36949240110 + 877.3461408717 * t);
-        Y0 += 0.00000002764 * Math.cos(2.40581332791 + 356.68058425589 * t);
-        Y0 += 0.00000002719 * Math.cos(3.56033366747 + 177.5823711926 * t);
-        Y0 += 0.00000002999 * Math.cos(3.63965245652 + 1926.37039199759 * t);
-        Y0 += 0.00000002693 * Math.cos(2.00893145868 + 6284.8041401832 * t);
-        Y0 += 0.00000002369 * Math.cos(5.90816921383 + 70.88081446661 * t);
-        Y0 += 0.00000002498 * Math.cos(2.14771583991 + 315.1512144318 * t);
-        Y0 += 0.00000002204 * Math.cos(4.77545839271 + 442.886135597 * t);
-        Y0 += 0.00000002261 * Math.cos(4.89614385698 + 621.2335891349 * t);
-        Y0 += 0.00000002213 * Math.cos(1.45024938630 + 1189.0575898673 * t);
-        Y0 += 0.00000002492 * Math.cos(4.24445703283 + 406.9712858504 * t);
-        Y0 += 0.00000002976 * Math.cos(3.02481916981 + 1014.1039783882 * t);
-        Y0 += 0.00000002840 * Math.cos(0.64471611311 + 522.3336006103 * t);
-        Y0 += 0.00000002340 * Math.cos(3.29528259310 + 440.43845504219 * t);
-        Y0 += 0.00000003012 * Math.cos(2.70591736862 + 15.9096922111 * t);
-        Y0 += 0.00000003012 * Math.cos(2.70591736862 + 16.3973271781 * t);
-        Y0 += 0.00000002372 * Math.cos(1.81307027955 + 132.5964209849 * t);
-        Y0 += 0.00000002232 * Math.cos(3.99248125271 + 158.12984768129 * t);
-        Y0 += 0.00000002961 * Math.cos(5.94214048852 + 286.3524038135 * t);
-        Y0 += 0.00000002961 * Math.cos(2.80054783493 + 286.8400387805 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 342 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.00357822049 * Math.cos(3.03457804662 + 0.2438174835 * t);
-        Y1 += 0.00256200629 * Math.cos(0.44613631554 + 36.892380413 * t);
-        Y1 += 0.00242677799 * Math.cos(3.89213848413 + 39.86132582961 * t);
-        Y1 += 0.00106073143 * Math.cos(4.64936068389 + 37.88921815429 * t);
-        Y1 += 0.00103735195 * Math.cos(4.51191141127 + 38.3768531213 * t);
-        Y1 += 0.00118508231 * Math.cos(1.31543504055 + 76.50988875911 * t);
-        Y1 += 0.00021930692 * Math.cos(1.62939936370 + 35.40790770471 * t);
-        Y1 += 0.00017445772 * Math.cos(2.69316438174 + 41.3457985379 * t);
-        Y1 += 0.00013038843 * Math.cos(3.79605108858 + 3.21276290011 * t);
-        Y1 += 0.00004928885 * Math.cos(0.51813571490 + 73.5409433425 * t);
-        Y1 += 0.00002742686 * Math.cos(2.49310000815 + 77.9943614674 * t);
-        Y1 += 0.00002155134 * Math.cos(2.54801435750 + 4.6972356084 * t);
-        Y1 += 0.00001882800 * Math.cos(2.84958651579 + 33.9234349964 * t);
-        Y1 += 0.00001572888 * Math.cos(5.79049449823 + 114.6429243969 * t);
-        Y1 += 0.00001326507 * Math.cos(4.45906236203 + 75.0254160508 * t);
-        Y1 += 0.00001343094 * Math.cos(1.46758582116 + 42.83027124621 * t);
-        Y1 += 0.00000897979 * Math.cos(2.69913392072 + 426.8420083595 * t);
-        Y1 += 0.00000865617 * Math.cos(0.09538823497 + 37.8555882595 * t);
-        Y1 += 0.00000849963 * Math.cos(4.24519902715 + 38.89811798311 * t);
-        Y1 += 0.00000922754 * Math.cos(1.77437053635 + 72.05647063421 * t);
-        Y1 += 0.00000726258 * Math.cos(5.81913445111 + 36.404745446 * t);
-        Y1 += 0.00000778220 * Math.cos(4.27400223412 + 206.42936592071 * t);
-        Y1 += 0.00000754025 * Math.cos(3.76126183394 + 220.6564599223 * t);
-        Y1 += 0.00000607406 * Math.cos(4.81815513635 + 1059.6257476727 * t);
-        Y1 += 0.00000571831 * Math.cos(0.85851242227 + 522.8212355773 * t);
-        Y1 += 0.00000560995 * Math.cos(0.34476353479 + 537.0483295789 * t);
-        Y1 += 0.00000501078 * Math.cos(0.14255476727 + 28.81562556571 * t);
-        Y1 += 0.00000493238 * Math.cos(0.53463363296 + 39.3736908626 * t);
-        Y1 += 0.00000474802 * Math.cos(5.97795229031 + 98.6561710411 * t);
-        Y1 += 0.00000453975 * Math.cos(0.14363576661 + 35.9291725665 * t);
-        Y1 += 0.00000471731 * Math.cos(3.27137539235 + 1.7282901918 * t);
-        Y1 += 0.00000410057 * Math.cos(4.19500321025 + 40.8245336761 * t);
-        Y1 += 0.00000366899 * Math.cos(4.19675940250 + 47.9380806769 * t);
-        Y1 += 0.00000450109 * Math.cos(2.82750084230 + 76.0222537921 * t);
-        Y1 += 0.00000354347 * Math.cos(1.55870450456 + 1.24065522479 * t);
-        Y1 += 0.00000300159 * Math.cos(1.31608359577 + 6.1817083167 * t);
-        Y1 += 0.00000327501 * Math.cos(5.77559197316 + 33.43580002939 * t);
-        Y1 += 0.00000174973 * Math.cos(4.06947925642 + 32.4389622881 * t);
-        Y1 += 0.00000171503 * Math.cos(2.86905921629 + 34.1840674273 * t);
-        Y1 += 0.00000156749 * Math.cos(1.02465451730 + 79.47883417571 * t);
-        Y1 += 0.00000152549 * Math.cos(5.29458792782 + 30.300098274 * t);
-        Y1 += 0.00000150775 * Math.cos(1.46875297221 + 42.5696388153 * t);
-        Y1 += 0.00000162280 * Math.cos(5.51215947389 + 31.2633061205 * t);
-        Y1 += 0.00000131609 * Math.cos(3.19975255613 + 7.83293736379 * t);
-        Y1 += 0.00000136159 * Math.cos(3.00798814109 + 70.5719979259 * t);
-        Y1 += 0.00000134616 * Math.cos(5.10422989672 + 45.49040012211 * t);
-        Y1 += 0.00000116304 * Math.cos(5.32949492640 + 46.4536079686 * t);
-        Y1 += 0.00000115918 * Math.cos(0.24763705851 + 44.31474395451 * t);
-        Y1 += 0.00000110293 * Math.cos(4.69481457289 + 35.4560918145 * t);
-        Y1 += 0.00000099282 * Math.cos(0.34979488247 + 2.7251279331 * t);
-        Y1 += 0.00000099914 * Math.cos(5.92865840649 + 41.2976144281 * t);
-        Y1 += 0.00000108706 * Math.cos(1.52062460635 + 113.15845168861 * t);
-        Y1 += 0.00000088965 * Math.cos(5.83760483379 + 60.52313540329 * t);
-        Y1 += 0.00000086886 * Math.cos(0.75633169755 + 31.9513273211 * t);
-        Y1 += 0.00000072232 * Math.cos(1.93507773057 + 640.1411037975 * t);
-        Y1 += 0.00000086985 * Math.cos(3.23018942725 + 419.72846135871 * t);
-        Y1 += 0.00000073430 * Math.cos(5.93590859407 + 70.08436295889 * t);
-        Y1 += 0.00000053395 * Math.cos(2.89441175199 + 433.9555553603 * t);
-        Y1 += 0.00000057451 * Math.cos(5.79242631159 + 213.5429129215 * t);
-        Y1 += 0.00000051458 * Math.cos(2.44646741842 + 69.3963417583 * t);
-        Y1 += 0.00000048797 * Math.cos(4.44285537763 + 111.67397898031 * t);
-        Y1 += 0.00000048557 * Math.cos(1.53569583062 + 2.6769438233 * t);
-        Y1 += 0.00000042206 * Math.cos(4.80902694866 + 74.53778108379 * t);
-        Y1 += 0.00000042550 * Math.cos(0.10167685669 + 7.66618102501 * t);
-        Y1 += 0.00000039462 * Math.cos(4.26971409186 + 31.7845709823 * t);
-        Y1 += 0.00000039445 * Math.cos(5.65869884949 + 12.77399045571 * t);
-        Y1 += 0.00000042389 * Math.cos(4.01940273222 + 110.189506272 * t);
-        Y1 += 0.00000044118 * Math.cos(5.15854031484 + 1589.3167127673 * t);
-        Y1 += 0.00000037988 * Math.cos(4.30930512095 + 6.3484646555 * t);
-        Y1 += 0.00000037802 * Math.cos(4.41701497532 + 14.258463164 * t);
-        Y1 += 0.00000036280 * Math.cos(1.56655638104 + 273.8222308413 * t);
-        Y1 += 0.00000037247 * Math.cos(6.20048406786 + 73.0533083755 * t);
-        Y1 += 0.00000036282 * Math.cos(1.28256818253 + 84.5866436064 * t);
-        Y1 += 0.00000040018 * Math.cos(2.70338838405 + 4.4366031775 * t);
-        Y1 += 0.00000032400 * Math.cos(0.07249247133 + 44.96913526031 * t);
-        Y1 += 0.00000031842 * Math.cos(0.45413330049 + 34.9202727377 * t);
-        Y1 += 0.00000032037 * Math.cos(1.37472212177 + 27.3311528574 * t);
-        Y1 += 0.00000034456 * Math.cos(1.80072966680 + 529.9347825781 * t);
-        Y1 += 0.00000031208 * Math.cos(0.16340478702 + 1052.51220067191 * t);
-        Y1 += 0.00000030002 * Math.cos(0.76559925402 + 1066.7392946735 * t);
-        Y1 += 0.00000033805 * Math.cos(4.47034863791 + 149.8070146181 * t);
-        Y1 += 0.00000033096 * Math.cos(0.88714456679 + 116.12739710521 * t);
-        Y1 += 0.00000030571 * Math.cos(5.59230793843 + 22.3900997655 * t);
-        Y1 += 0.00000024020 * Math.cos(4.95060362012 + 63.9797157869 * t);
-        Y1 += 0.00000023780 * Math.cos(5.91699417045 + 105.76971804189 * t);
-        Y1 += 0.00000023110 * Math.cos(4.08428537053 + 23.87457247379 * t);
-        Y1 += 0.00000022233 * Math.cos(2.78662410030 + 174.9222423167 * t);
-        Y1 += 0.00000021377 * Math.cos(2.17060095397 + 316.6356871401 * t);
-        Y1 += 0.00000025400 * Math.cos(6.09781709877 + 106.73292588839 * t);
-        Y1 += 0.00000020754 * Math.cos(5.65712726150 + 5.6604434549 * t);
-        Y1 += 0.00000025572 * Math.cos(0.74829738831 + 529.44714761109 * t);
-        Y1 += 0.00000019878 * Math.cos(5.73044838456 + 32.9602271499 * t);
-        Y1 += 0.00000019754 * Math.cos(2.91920492275 + 49.42255338521 * t);
-        Y1 += 0.00000019241 * Math.cos(4.44333892046 + 7.14491616321 * t);
-        Y1 += 0.00000017979 * Math.cos(6.19717030924 + 62.4952430786 * t);
-        Y1 += 0.00000019513 * Math.cos(0.93528726944 + 68.5998902506 * t);
-        Y1 += 0.00000018273 * Math.cos(3.63050723326 + 227.77000692311 * t);
-        Y1 += 0.00000017552 * Math.cos(4.23270606709 + 69.0875252176 * t);
-        Y1 += 0.00000016704 * Math.cos(5.51562885485 + 40.8581635709 * t);
-        Y1 += 0.00000016996 * Math.cos(2.67528896312 + 91.54262404029 * t);
-        Y1 += 0.00000016800 * Math.cos(2.08712613778 + 30.4668546128 * t);
-        Y1 += 0.00000016800 * Math.cos(5.22871879137 + 30.95448957981 * t);
-        Y1 += 0.00000016400 * Math.cos(3.45346576095 + 33.26904369061 * t);
-        Y1 += 0.00000017242 * Math.cos(4.89590986485 + 11.55015017831 * t);
-        Y1 += 0.00000015590 * Math.cos(0.42181314281 + 37.1048287341 * t);
-        Y1 += 0.00000015590 * Math.cos(3.91877412353 + 39.6488775085 * t);
-        Y1 += 0.00000015469 * Math.cos(4.91170489358 + 43.79347909271 * t);
-        Y1 += 0.00000016590 * Math.cos(1.19757876004 + 33.71098667531 * t);
-        Y1 += 0.00000019347 * Math.cos(4.06418655235 + 152.77596003471 * t);
-        Y1 += 0.00000014994 * Math.cos(4.29075263091 + 319.06881347989 * t);
-        Y1 += 0.00000014395 * Math.cos(5.67189517492 + 110.45013870291 * t);
-        Y1 += 0.00000015528 * Math.cos(5.87587490674 + 79.43065006591 * t);
-        Y1 += 0.00000013727 * Math.cos(0.88731617093 + 43.484662552 * t);
-        Y1 += 0.00000013988 * Math.cos(5.54059308769 + 4.2096006414 * t);
-        Y1 += 0.00000014467 * Math.cos(5.13403607047 + 108.70503356371 * t);
-        Y1 += 0.00000016652 * Math.cos(4.74696813612 + 304.84171947829 * t);
-        Y1 += 0.00000015153 * Math.cos(1.64704158732 + 72.31710306511 * t);
-        Y1 += 0.00000012810 * Math.cos(0.80784638784 + 11.2895177474 * t);
-        Y1 += 0.00000012751 * Math.cos(5.32663860873 + 45.7992166628 * t);
-        Y1 += 0.00000013293 * Math.cos(3.14432194523 + 43.0427195673 * t);
-        Y1 += 0.00000012751 * Math.cos(0.98606109283 + 515.70768857651 * t);
-        Y1 += 0.00000011616 * Math.cos(4.07265201948 + 97.17169833279 * t);
-        Y1 += 0.00000011538 * Math.cos(4.63247506911 + 633.0275567967 * t);
-        Y1 += 0.00000011046 * Math.cos(5.97427560684 + 25.8466801491 * t);
-        Y1 += 0.00000011032 * Math.cos(5.39646944302 + 4.8639919472 * t);
-        Y1 += 0.00000011189 * Math.cos(2.37859784397 + 83.1021708981 * t);
-        Y1 += 0.00000010860 * Math.cos(5.09978655023 + 9.8050450391 * t);
-        Y1 += 0.00000010958 * Math.cos(3.05455531642 + 415.04804069769 * t);
-        Y1 += 0.00000010244 * Math.cos(4.97854342755 + 71.09326278771 * t);
-        Y1 += 0.00000011427 * Math.cos(3.07758676009 + 129.6756596781 * t);
-        Y1 += 0.00000009895 * Math.cos(4.05388510292 + 251.6759485593 * t);
-        Y1 += 0.00000009802 * Math.cos(3.40894474212 + 44.48150029329 * t);
-        Y1 += 0.00000011029 * Math.cos(6.26821027792 + 143.38148881789 * t);
-        Y1 += 0.00000009235 * Math.cos(4.42290386641 + 199.3158189199 * t);
-        Y1 += 0.00000008899 * Math.cos(1.97879285736 + 7.3573644843 * t);
-        Y1 += 0.00000007746 * Math.cos(4.32608949084 + 103.3365917021 * t);
-        Y1 += 0.00000008691 * Math.cos(2.29051174612 + 32.7477788288 * t);
-        Y1 += 0.00000007714 * Math.cos(3.51056446926 + 65.46418849521 * t);
-        Y1 += 0.00000008007 * Math.cos(0.23872922784 + 544.1618765797 * t);
-        Y1 += 0.00000007513 * Math.cos(6.18736050552 + 69.6087900794 * t);
-        Y1 += 0.00000007336 * Math.cos(3.43409422317 + 15.7429358723 * t);
-        Y1 += 0.00000007195 * Math.cos(4.56950200257 + 949.4194264533 * t);
-        Y1 += 0.00000009601 * Math.cos(5.68191403081 + 80.963306884 * t);
-        Y1 += 0.00000008094 * Math.cos(1.70304241092 + 526.7533888404 * t);
-        Y1 += 0.00000008109 * Math.cos(5.77532188995 + 533.1161763158 * t);
-        Y1 += 0.00000006906 * Math.cos(3.70672232078 + 137.2768416459 * t);
-        Y1 += 0.00000007455 * Math.cos(1.11362695292 + 105.2484531801 * t);
-        Y1 += 0.00000007826 * Math.cos(2.45321405406 + 77.0311536209 * t);
-        Y1 += 0.00000006529 * Math.cos(5.57837212493 + 65.2035560643 * t);
-        Y1 += 0.00000007134 * Math.cos(2.05010386093 + 44.00592741381 * t);
-        Y1 += 0.00000006186 * Math.cos(0.85023811841 + 31.4757544416 * t);
-        Y1 += 0.00000006186 * Math.cos(3.99183077200 + 30.9881194746 * t);
-        Y1 += 0.00000007698 * Math.cos(4.89115030216 + 14.47091148511 * t);
-        Y1 += 0.00000007434 * Math.cos(3.96333556733 + 146.8380692015 * t);
-        Y1 += 0.00000006317 * Math.cos(5.24777799313 + 66.9486612035 * t);
-        Y1 += 0.00000006903 * Math.cos(4.63739310514 + 75.98862389731 * t);
-        Y1 += 0.00000005591 * Math.cos(3.47781120117 + 448.98829064149 * t);
-        Y1 += 0.00000006425 * Math.cos(3.47626562775 + 678.27413943531 * t);
-        Y1 += 0.00000005483 * Math.cos(1.61247704205 + 34.44469985821 * t);
-        Y1 += 0.00000005483 * Math.cos(2.72811022429 + 42.3090063844 * t);
-        Y1 += 0.00000005519 * Math.cos(1.27116075236 + 853.4401992355 * t);
-        Y1 += 0.00000005483 * Math.cos(5.10869779974 + 100.14064374939 * t);
-        Y1 += 0.00000005483 * Math.cos(1.96710514615 + 100.6282787164 * t);
-        Y1 += 0.00000006288 * Math.cos(2.60319684406 + 143.9027536797 * t);
-        Y1 += 0.00000006239 * Math.cos(4.20987077870 + 17.76992530181 * t);
-        Y1 += 0.00000005246 * Math.cos(3.52035332490 + 209.6107596584 * t);
-        Y1 += 0.00000005331 * Math.cos(4.83550697489 + 45.9659730016 * t);
-        Y1 += 0.00000005131 * Math.cos(4.53503564274 + 217.4750661846 * t);
-        Y1 += 0.00000005325 * Math.cos(2.82680123889 + 19.2543980101 * t);
-        Y1 += 0.00000005172 * Math.cos(2.44008575183 + 25.3590451821 * t);
-        Y1 += 0.00000005139 * Math.cos(4.17507085285 + 6.86972951729 * t);
-        Y1 += 0.00000005992 * Math.cos(2.76367557670 + 9.3174100721 * t);
-        Y1 += 0.00000005011 * Math.cos(4.91884286875 + 38.85242600079 * t);
-        Y1 += 0.00000004975 * Math.cos(3.01044533436 + 525.2543619171 * t);
-        Y1 += 0.00000004910 * Math.cos(3.47707407879 + 45.277951801 * t);
-        Y1 += 0.00000005250 * Math.cos(0.16559612363 + 0.719390363 * t);
-        Y1 += 0.00000004731 * Math.cos(6.27469301850 + 40.3825906914 * t);
-        Y1 += 0.00000004731 * Math.cos(1.20748690143 + 36.3711155512 * t);
-        Y1 += 0.00000005910 * Math.cos(1.40566081690 + 6168.43292559449 * t);
-        Y1 += 0.00000004700 * Math.cos(4.66314397827 + 50.9070260935 * t);
-        Y1 += 0.00000005127 * Math.cos(1.64029328726 + 140.9338082631 * t);
-        Y1 += 0.00000005321 * Math.cos(2.09939112611 + 1104.87233031131 * t);
-        Y1 += 0.00000006339 * Math.cos(1.02786059939 + 10175.3963280567 * t);
-        Y1 += 0.00000004983 * Math.cos(1.46113982673 + 1090.6452363097 * t);
-        Y1 += 0.00000005487 * Math.cos(0.13979521980 + 180.03005174739 * t);
-        Y1 += 0.00000004560 * Math.cos(2.38015606975 + 323.74923414091 * t);
-        Y1 += 0.00000004689 * Math.cos(5.95510153546 + 1068.22376738181 * t);
-        Y1 += 0.00000005562 * Math.cos(2.83481631972 + 10098.64262181409 * t);
-        Y1 += 0.00000004432 * Math.cos(0.83559275468 + 415.7963080956 * t);
-        Y1 += 0.00000004456 * Math.cos(1.46246408589 + 235.68919520349 * t);
-        Y1 += 0.00000004289 * Math.cos(4.40449246840 + 1051.0277279636 * t);
-        Y1 += 0.00000004145 * Math.cos(4.70457869197 + 33.6964324603 * t);
-        Y1 += 0.00000004167 * Math.cos(3.29886964345 + 416.532513406 * t);
-        Y1 += 0.00000004107 * Math.cos(0.91956436736 + 61.01077037031 * t);
-        Y1 += 0.00000004088 * Math.cos(3.88660175347 + 423.66061462181 * t);
-        Y1 += 0.00000005027 * Math.cos(2.86873904525 + 21.7020785649 * t);
-        Y1 += 0.00000004030 * Math.cos(3.44189647415 + 216.72430665921 * t);
-        Y1 += 0.00000004278 * Math.cos(6.22413352457 + 310.4707937708 * t);
-        Y1 += 0.00000004013 * Math.cos(2.96769071148 + 104275.10267753768 * t);
-        Y1 += 0.00000004505 * Math.cos(5.93746161630 + 291.9478482112 * t);
-        Y1 += 0.00000003959 * Math.cos(4.60954974650 + 210.36151918381 * t);
-        Y1 += 0.00000003962 * Math.cos(5.59162611271 + 978.93988816699 * t);
-        Y1 += 0.00000005561 * Math.cos(3.31923216598 + 1409.47023230609 * t);
-        Y1 += 0.00000005073 * Math.cos(5.15285057233 + 1498.3359125231 * t);
-        Y1 += 0.00000004227 * Math.cos(6.19954210169 + 534.38820070301 * t);
-        Y1 += 0.00000004054 * Math.cos(2.45804475947 + 430.02340209721 * t);
-        Y1 += 0.00000003863 * Math.cos(0.67184399240 + 1127.50624756031 * t);
-        Y1 += 0.00000004367 * Math.cos(0.14073726901 + 58.9837809408 * t);
-        Y1 += 0.00000004694 * Math.cos(4.91041582057 + 77.5067265004 * t);
-        Y1 += 0.00000004144 * Math.cos(5.16137286617 + 518.1408149163 * t);
-        Y1 += 0.00000004289 * Math.cos(1.72696806473 + 921.3206991231 * t);
-        Y1 += 0.00000004039 * Math.cos(5.37067473153 + 1622.76932774409 * t);
-        Y1 += 0.00000005180 * Math.cos(3.80035699018 + 99.1438060081 * t);
-        Y1 += 0.00000004845 * Math.cos(1.33083083566 + 136.78920667889 * t);
-        Y1 += 0.00000004827 * Math.cos(1.21379713661 + 418.2439886504 * t);
-        Y1 += 0.00000003722 * Math.cos(4.94171351364 + 1065.2548219652 * t);
-        Y1 += 0.00000004729 * Math.cos(2.19682691364 + 421.212934067 * t);
-        Y1 += 0.00000003490 * Math.cos(0.54756448610 + 986.8041946932 * t);
-        Y1 += 0.00000003715 * Math.cos(1.30912268012 + 254.10907489909 * t);
-        Y1 += 0.00000003488 * Math.cos(5.95100195908 + 187.9400502559 * t);
-        Y1 += 0.00000003989 * Math.cos(5.37041318514 + 95.7354097343 * t);
-        Y1 += 0.00000003603 * Math.cos(2.22310220083 + 67.1154175423 * t);
-        Y1 += 0.00000003530 * Math.cos(0.93986174870 + 24.36220744081 * t);
-        Y1 += 0.00000003538 * Math.cos(1.51952328076 + 57.4993082325 * t);
-        Y1 += 0.00000003838 * Math.cos(3.56895316428 + 979.90309601349 * t);
-        Y1 += 0.00000003615 * Math.cos(1.60474010406 + 493.2862196486 * t);
-        Y1 += 0.00000003457 * Math.cos(1.79944886939 + 807.70598162989 * t);
-        Y1 += 0.00000003648 * Math.cos(1.43920595596 + 647.25465079831 * t);
-        Y1 += 0.00000004048 * Math.cos(6.25251011272 + 979.69064769239 * t);
-        Y1 += 0.00000004414 * Math.cos(2.00415973362 + 1062.59469308931 * t);
-        Y1 += 0.00000003631 * Math.cos(0.74841494891 + 486.1726726478 * t);
-        Y1 += 0.00000003347 * Math.cos(4.13560148025 + 151.2914873264 * t);
-        Y1 += 0.00000003305 * Math.cos(5.23397852699 + 1544.07013012871 * t);
-        Y1 += 0.00000003428 * Math.cos(0.11713176717 + 107.2205608554 * t);
-        Y1 += 0.00000003286 * Math.cos(3.55869926238 + 1131.6990332543 * t);
-        Y1 += 0.00000003389 * Math.cos(3.22644735392 + 28.98238190449 * t);
-        Y1 += 0.00000003353 * Math.cos(2.30309048870 + 10289.7954349701 * t);
-        Y1 += 0.00000003214 * Math.cos(0.83720162261 + 569.5522909242 * t);
-        Y1 += 0.00000003210 * Math.cos(1.05449812296 + 114.1552894299 * t);
-        Y1 += 0.00000003353 * Math.cos(1.62613341505 + 157.8837694654 * t);
-        Y1 += 0.00000003339 * Math.cos(5.26712406495 + 443.0985839181 * t);
-        Y1 += 0.00000003188 * Math.cos(2.62887165071 + 361.13400238079 * t);
-        Y1 += 0.00000003390 * Math.cos(5.53564544873 + 1558.2972241303 * t);
-        Y1 += 0.00000003933 * Math.cos(2.08622660372 + 313.43973918739 * t);
-        Y1 += 0.00000003131 * Math.cos(0.52572989907 + 275.3067035496 * t);
-        Y1 += 0.00000003156 * Math.cos(6.23565991208 + 431.8404353331 * t);
-        Y1 += 0.00000003993 * Math.cos(4.90080803105 + 67.6366824041 * t);
-        Y1 += 0.00000003708 * Math.cos(0.24836934654 + 500.39976664941 * t);
-        Y1 += 0.00000004051 * Math.cos(4.41826493037 + 59.038662695 * t);
-        Y1 += 0.00000003757 * Math.cos(2.02838234929 + 296.4012663361 * t);
-        Y1 += 0.00000003138 * Math.cos(0.63906969040 + 347.1193567003 * t);
-        Y1 += 0.00000003086 * Math.cos(1.67235466145 + 392.9017584157 * t);
-        Y1 += 0.00000003466 * Math.cos(1.60020779124 + 215.1941419686 * t);
-        Y1 += 0.00000003139 * Math.cos(3.09999506971 + 159.36824217371 * t);
-        Y1 += 0.00000003466 * Math.cos(3.47361825954 + 2145.34674583789 * t);
-        Y1 += 0.00000003737 * Math.cos(3.53018898305 + 449.0364747513 * t);
-        Y1 += 0.00000003286 * Math.cos(1.82620986507 + 435.44002806861 * t);
-        Y1 += 0.00000003043 * Math.cos(5.02988988519 + 2.20386307129 * t);
-        Y1 += 0.00000003999 * Math.cos(5.93005561135 + 6245.1866318371 * t);
-        Y1 += 0.00000003999 * Math.cos(5.93005561135 + 6244.69899687009 * t);
-        Y1 += 0.00000002999 * Math.cos(0.07518657231 + 526.00262931501 * t);
-        Y1 += 0.00000003014 * Math.cos(5.52171912448 + 1054.94532701169 * t);
-        Y1 += 0.00000003091 * Math.cos(4.52477390940 + 42.997027585 * t);
-        Y1 += 0.00000003274 * Math.cos(5.81401559586 + 736.1203310153 * t);
-        Y1 += 0.00000002965 * Math.cos(1.12065249261 + 533.8669358412 * t);
-        Y1 += 0.00000003149 * Math.cos(2.34844411589 + 103.7639804718 * t);
-        Y1 += 0.00000003610 * Math.cos(1.47397387042 + 55.05162767771 * t);
-        Y1 += 0.00000002937 * Math.cos(5.93931708618 + 385.2523923381 * t);
-        Y1 += 0.00000002903 * Math.cos(4.35235911504 + 117.5636857037 * t);
-        Y1 += 0.00000002968 * Math.cos(1.28091906944 + 613.31440085451 * t);
-        Y1 += 0.00000003097 * Math.cos(4.42120029558 + 1395.24313830449 * t);
-        Y1 += 0.00000002931 * Math.cos(3.60795663266 + 202.4972126576 * t);
-        Y1 += 0.00000003013 * Math.cos(1.49526296600 + 121.2352065359 * t);
-        Y1 += 0.00000003206 * Math.cos(2.86107032756 + 53.40958840249 * t);
-        Y1 += 0.00000003269 * Math.cos(0.45608619325 + 480.00777927849 * t);
-        Y1 += 0.00000003948 * Math.cos(5.43052261409 + 112.8832650427 * t);
-        Y1 += 0.00000002824 * Math.cos(3.14926129801 + 176.406715025 * t);
-        Y1 += 0.00000002827 * Math.cos(0.36860696411 + 429.81095377611 * t);
-        Y1 += 0.00000003348 * Math.cos(3.55163976673 + 6284.8041401832 * t);
-        Y1 += 0.00000002862 * Math.cos(2.43356518574 + 384.02855206069 * t);
-        Y1 += 0.00000003228 * Math.cos(5.13696496058 + 52.6039471229 * t);
-        Y1 += 0.00000003446 * Math.cos(5.32686217736 + 62.0076081116 * t);
-        Y1 += 0.00000003096 * Math.cos(4.83839993614 + 71.82946809809 * t);
-        Y1 += 0.00000003031 * Math.cos(6.24076040166 + 494.2348732801 * t);
-        Y1 += 0.00000003021 * Math.cos(6.10531658530 + 328.5964111407 * t);
-        Y1 += 0.00000002731 * Math.cos(0.79873177065 + 432.471082652 * t);
-        Y1 += 0.00000003171 * Math.cos(4.97187934370 + 10215.0138364028 * t);
-        Y1 += 0.00000002674 * Math.cos(2.29257372574 + 158.12984768129 * t);
-        Y1 += 0.00000002901 * Math.cos(4.22947732371 + 559.4697985068 * t);
-        Y1 += 0.00000002631 * Math.cos(4.21066619701 + 2008.8013566425 * t);
-        Y1 += 0.00000002695 * Math.cos(3.54636234855 + 81.61769818981 * t);
-        Y1 += 0.00000002695 * Math.cos(3.54636234855 + 81.13006322279 * t);
-        Y1 += 0.00000002721 * Math.cos(4.26045579509 + 326.1823604807 * t);
-        Y1 += 0.00000002775 * Math.cos(4.27616320157 + 457.8614969965 * t);
-        Y1 += 0.00000003054 * Math.cos(6.23455983590 + 6281.8351947666 * t);
-        Y1 += 0.00000002852 * Math.cos(2.90626399353 + 186.71620997851 * t);
-        Y1 += 0.00000002538 * Math.cos(1.73224718947 + 111.18634401329 * t);
-        Y1 += 0.00000002835 * Math.cos(6.07135630955 + 419.50145882259 * t);
-        Y1 += 0.00000002868 * Math.cos(3.66893253825 + 844.56699288049 * t);
-        Y1 += 0.00000002530 * Math.cos(2.61093052560 + 1050.7525413177 * t);
-        Y1 += 0.00000002843 * Math.cos(4.15972261299 + 830.3398988789 * t);
-        Y1 += 0.00000002848 * Math.cos(4.69330398359 + 659.36662477269 * t);
-        Y1 += 0.00000003031 * Math.cos(2.55942970028 + 406.3469551246 * t);
-        Y1 += 0.00000002907 * Math.cos(3.71503751053 + 573.6968925084 * t);
-        Y1 += 0.00000002536 * Math.cos(5.01251643852 + 82.6145359311 * t);
-        Y1 += 0.00000002957 * Math.cos(2.02121290773 + 947.70795120889 * t);
-        Y1 += 0.00000003321 * Math.cos(3.87615887284 + 449.9996825978 * t);
-        Y1 += 0.00000003117 * Math.cos(4.74251772899 + 457.32567791969 * t);
-        Y1 += 0.00000002902 * Math.cos(1.37682148855 + 10212.0448909862 * t);
-        Y1 += 0.00000002459 * Math.cos(3.74222344492 + 450.73339578069 * t);
-        Y1 += 0.00000002557 * Math.cos(1.32711393852 + 525.4813644532 * t);
-        Y1 += 0.00000002624 * Math.cos(3.35106775051 + 946.2234785006 * t);
-        Y1 += 0.00000002417 * Math.cos(0.09697452811 + 351.5727748252 * t);
-        Y1 += 0.00000002454 * Math.cos(3.27912412212 + 196.01680510321 * t);
-        Y1 += 0.00000002585 * Math.cos(5.70826849733 + 248.70700314271 * t);
-        Y1 += 0.00000002549 * Math.cos(0.23244817308 + 1062.80714141041 * t);
-        Y1 += 0.00000002615 * Math.cos(4.06090316067 + 425.13053311509 * t);
-        Y1 += 0.00000002387 * Math.cos(2.04191008078 + 654.3681977991 * t);
-        Y1 += 0.00000002439 * Math.cos(1.45718218253 + 462.74230389109 * t);
-        Y1 += 0.00000002367 * Math.cos(2.75159024078 + 107.52937739611 * t);
-        Y1 += 0.00000002538 * Math.cos(4.19012282298 + 481.2316195559 * t);
-        Y1 += 0.00000002479 * Math.cos(3.56223236298 + 205.9417309537 * t);
-        Y1 += 0.00000002791 * Math.cos(5.44719714506 + 24.14975911971 * t);
-        Y1 += 0.00000002626 * Math.cos(2.73743077295 + 213.0552779545 * t);
-        Y1 += 0.00000002445 * Math.cos(0.13750022894 + 146.87169909629 * t);
-        Y1 += 0.00000002575 * Math.cos(0.32351821119 + 86.07111631471 * t);
-        Y1 += 0.00000003120 * Math.cos(1.20503303199 + 456.36247007319 * t);
-        Y1 += 0.00000002587 * Math.cos(1.59304506140 + 400.8209466961 * t);
-        Y1 += 0.00000002261 * Math.cos(3.24987212470 + 644.33388949151 * t);
-        Y1 += 0.00000002796 * Math.cos(0.30156280343 + 216.67861467689 * t);
-        Y1 += 0.00000002896 * Math.cos(0.71993168447 + 1685.2959399851 * t);
-        Y1 += 0.00000002453 * Math.cos(4.81368306062 + 109.9625037359 * t);
-        Y1 += 0.00000002325 * Math.cos(0.25394919776 + 442.886135597 * t);
-        Y1 += 0.00000002387 * Math.cos(3.75345095238 + 599.0873068529 * t);
-        Y1 += 0.00000002873 * Math.cos(5.13430840850 + 834.5326845729 * t);
-        Y1 += 0.00000002963 * Math.cos(5.48260613029 + 2119.00767786191 * t);
-        Y1 += 0.00000002233 * Math.cos(4.37346978315 + 709.29362807231 * t);
-        Y1 += 0.00000002337 * Math.cos(2.73478761543 + 210.5739675049 * t);
-        Y1 += 0.00000002259 * Math.cos(5.24608284286 + 29.5036467663 * t);
-        Y1 += 0.00000002300 * Math.cos(2.19835177792 + 986.0534351678 * t);
-        Y1 += 0.00000002199 * Math.cos(1.21359358990 + 606.2008538537 * t);
-        Y1 += 0.00000002325 * Math.cos(4.84070679976 + 109.701871305 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 113 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.01620002167 * Math.cos(5.31277371181 + 38.3768531213 * t);
-        Y2 += 0.00028138323 * Math.cos(4.01361134771 + 0.2438174835 * t);
-        Y2 += 0.00012318619 * Math.cos(1.01433481938 + 39.86132582961 * t);
-        Y2 += 0.00008346956 * Math.cos(0.42201817445 + 37.88921815429 * t);
-        Y2 += 0.00005131003 * Math.cos(3.55894443240 + 76.50988875911 * t);
-        Y2 += 0.00004109792 * Math.cos(6.17733924169 + 36.892380413 * t);
-        Y2 += 0.00001369663 * Math.cos(1.98683082370 + 1.7282901918 * t);
-        Y2 += 0.00000633706 * Math.cos(0.81055475696 + 3.21276290011 * t);
-        Y2 += 0.00000583006 * Math.cos(6.25831267359 + 41.3457985379 * t);
-        Y2 += 0.00000546517 * Math.cos(5.42211492491 + 75.0254160508 * t);
-        Y2 += 0.00000246224 * Math.cos(0.87539145895 + 213.5429129215 * t);
-        Y2 += 0.00000159773 * Math.cos(5.97653264005 + 206.42936592071 * t);
-        Y2 += 0.00000156619 * Math.cos(2.04577076492 + 220.6564599223 * t);
-        Y2 += 0.00000191674 * Math.cos(0.60086490402 + 529.9347825781 * t);
-        Y2 += 0.00000188212 * Math.cos(2.86105100061 + 35.40790770471 * t);
-        Y2 += 0.00000117788 * Math.cos(2.55450585422 + 522.8212355773 * t);
-        Y2 += 0.00000114488 * Math.cos(4.76320074833 + 35.9291725665 * t);
-        Y2 += 0.00000112666 * Math.cos(4.92459292590 + 537.0483295789 * t);
-        Y2 += 0.00000105949 * Math.cos(5.84319366771 + 40.8245336761 * t);
-        Y2 += 0.00000077696 * Math.cos(5.55872082952 + 77.9943614674 * t);
-        Y2 += 0.00000090798 * Math.cos(0.48400254359 + 73.5409433425 * t);
-        Y2 += 0.00000067696 * Math.cos(0.87599797871 + 426.8420083595 * t);
-        Y2 += 0.00000074860 * Math.cos(6.15585546499 + 4.6972356084 * t);
-        Y2 += 0.00000064717 * Math.cos(1.34762573111 + 34.9202727377 * t);
-        Y2 += 0.00000051378 * Math.cos(1.41763897935 + 36.404745446 * t);
-        Y2 += 0.00000050205 * Math.cos(5.38246230326 + 42.83027124621 * t);
-        Y2 += 0.00000040929 * Math.cos(4.64969715335 + 33.9234349964 * t);
-        Y2 += 0.00000036136 * Math.cos(1.44221344970 + 98.6561710411 * t);
-        Y2 += 0.00000033953 * Math.cos(3.45488669371 + 1059.6257476727 * t);
-        Y2 += 0.00000034603 * Math.cos(4.83781708761 + 76.0222537921 * t);
-        Y2 += 0.00000035441 * Math.cos(0.92439194787 + 31.2633061205 * t);
-        Y2 += 0.00000029614 * Math.cos(1.77735061850 + 28.81562556571 * t);
-        Y2 += 0.00000031027 * Math.cos(3.40007815913 + 45.49040012211 * t);
-        Y2 += 0.00000035521 * Math.cos(2.70107635202 + 39.3736908626 * t);
-        Y2 += 0.00000025488 * Math.cos(2.47241259934 + 47.9380806769 * t);
-        Y2 += 0.00000020115 * Math.cos(5.50307482336 + 1.24065522479 * t);
-        Y2 += 0.00000014328 * Math.cos(1.16675266548 + 433.9555553603 * t);
-        Y2 += 0.00000015503 * Math.cos(1.56080925316 + 114.6429243969 * t);
-        Y2 += 0.00000016998 * Math.cos(2.50473507501 + 33.43580002939 * t);
-        Y2 += 0.00000013166 * Math.cos(5.10795715214 + 419.72846135871 * t);
-        Y2 += 0.00000013053 * Math.cos(1.40065469605 + 60.52313540329 * t);
-        Y2 += 0.00000010637 * Math.cos(4.37252543304 + 34.1840674273 * t);
-        Y2 += 0.00000009610 * Math.cos(0.08619380662 + 640.1411037975 * t);
-        Y2 += 0.00000009354 * Math.cos(6.12654852334 + 42.5696388153 * t);
-        Y2 += 0.00000011447 * Math.cos(1.48554252527 + 71.5688356672 * t);
-        Y2 += 0.00000008454 * Math.cos(4.32641802480 + 2.7251279331 * t);
-        Y2 += 0.00000009012 * Math.cos(2.87032368668 + 72.05647063421 * t);
-        Y2 += 0.00000009594 * Math.cos(4.22403656438 + 69.3963417583 * t);
-        Y2 += 0.00000007419 * Math.cos(1.92565712551 + 227.77000692311 * t);
-        Y2 += 0.00000006800 * Math.cos(3.57170452455 + 113.15845168861 * t);
-        Y2 += 0.00000006267 * Math.cos(5.50825416463 + 1066.7392946735 * t);
-        Y2 += 0.00000006895 * Math.cos(2.74011142877 + 111.67397898031 * t);
-        Y2 += 0.00000005770 * Math.cos(5.94492182042 + 32.4389622881 * t);
-        Y2 += 0.00000005686 * Math.cos(0.66726291170 + 30.300098274 * t);
-        Y2 += 0.00000006679 * Math.cos(3.28449699734 + 258.78949556011 * t);
-        Y2 += 0.00000007799 * Math.cos(0.01316502615 + 7.3573644843 * t);
-        Y2 += 0.00000005906 * Math.cos(4.35406299044 + 44.31474395451 * t);
-        Y2 += 0.00000005606 * Math.cos(3.60862172739 + 46.4536079686 * t);
-        Y2 += 0.00000005525 * Math.cos(2.04832143671 + 1052.51220067191 * t);
-        Y2 += 0.00000007257 * Math.cos(4.88554087166 + 1097.7587833105 * t);
-        Y2 += 0.00000005427 * Math.cos(3.37665889417 + 105.76971804189 * t);
-        Y2 += 0.00000005179 * Math.cos(2.68906561571 + 515.70768857651 * t);
-        Y2 += 0.00000005163 * Math.cos(1.56680359144 + 7.83293736379 * t);
-        Y2 += 0.00000004688 * Math.cos(0.95059580199 + 222.14093263061 * t);
-        Y2 += 0.00000005379 * Math.cos(1.15102731522 + 22.3900997655 * t);
-        Y2 += 0.00000004607 * Math.cos(0.17861908533 + 549.1603035533 * t);
-        Y2 += 0.00000004101 * Math.cos(1.86095686008 + 213.0552779545 * t);
-        Y2 += 0.00000004262 * Math.cos(3.94315605774 + 204.9448932124 * t);
-        Y2 += 0.00000003916 * Math.cos(4.92658442131 + 207.913838629 * t);
-        Y2 += 0.00000004089 * Math.cos(0.26445229364 + 304.84171947829 * t);
-        Y2 += 0.00000003729 * Math.cos(6.12087852262 + 199.3158189199 * t);
-        Y2 += 0.00000003680 * Math.cos(3.97729685951 + 1589.3167127673 * t);
-        Y2 += 0.00000003702 * Math.cos(2.58942752453 + 319.06881347989 * t);
-        Y2 += 0.00000004832 * Math.cos(5.97662492227 + 215.0273856298 * t);
-        Y2 += 0.00000003474 * Math.cos(5.88640441483 + 103.3365917021 * t);
-        Y2 += 0.00000003298 * Math.cos(4.81858024415 + 544.1618765797 * t);
-        Y2 += 0.00000004521 * Math.cos(1.64991198460 + 108.2173985967 * t);
-        Y2 += 0.00000003967 * Math.cos(4.24856395374 + 944.7390057923 * t);
-        Y2 += 0.00000004059 * Math.cos(1.44024718167 + 149.8070146181 * t);
-        Y2 += 0.00000004009 * Math.cos(4.04772901629 + 533.1161763158 * t);
-        Y2 += 0.00000003288 * Math.cos(3.02037527521 + 407.9344936969 * t);
-        Y2 += 0.00000003976 * Math.cos(3.43142225420 + 526.7533888404 * t);
-        Y2 += 0.00000003343 * Math.cos(5.37024544109 + 531.4192552864 * t);
-        Y2 += 0.00000003932 * Math.cos(5.23324378146 + 91.54262404029 * t);
-        Y2 += 0.00000003478 * Math.cos(4.62796796973 + 6.1817083167 * t);
-        Y2 += 0.00000002967 * Math.cos(5.75717546362 + 860.55374623631 * t);
-        Y2 += 0.00000003058 * Math.cos(1.59562573237 + 342.9747551161 * t);
-        Y2 += 0.00000003974 * Math.cos(3.61989902199 + 335.8612081153 * t);
-        Y2 += 0.00000002849 * Math.cos(2.43690877786 + 666.4801717735 * t);
-        Y2 += 0.00000002999 * Math.cos(2.84954389869 + 937.62545879149 * t);
-        Y2 += 0.00000003008 * Math.cos(0.45545092573 + 74.53778108379 * t);
-        Y2 += 0.00000003080 * Math.cos(4.61982032828 + 129.6756596781 * t);
-        Y2 += 0.00000003346 * Math.cos(3.07224007183 + 1162.7185218913 * t);
-        Y2 += 0.00000002625 * Math.cos(3.26539092131 + 273.8222308413 * t);
-        Y2 += 0.00000002931 * Math.cos(3.14888688193 + 235.68919520349 * t);
-        Y2 += 0.00000002579 * Math.cos(5.19712816213 + 1073.85284167431 * t);
-        Y2 += 0.00000002550 * Math.cos(1.43127384605 + 26.58288545949 * t);
-        Y2 += 0.00000002542 * Math.cos(2.65218049337 + 1265.81129610991 * t);
-        Y2 += 0.00000002483 * Math.cos(3.30358671055 + 453.1810763355 * t);
-        Y2 += 0.00000002732 * Math.cos(3.33706438099 + 563.38739755489 * t);
-        Y2 += 0.00000002508 * Math.cos(0.10584642422 + 37.8555882595 * t);
-        Y2 += 0.00000002508 * Math.cos(5.05315792539 + 425.35753565121 * t);
-        Y2 += 0.00000002680 * Math.cos(1.03370719327 + 454.6655490438 * t);
-        Y2 += 0.00000002511 * Math.cos(1.57939297348 + 209.6107596584 * t);
-        Y2 += 0.00000002512 * Math.cos(0.17397391459 + 217.4750661846 * t);
-        Y2 += 0.00000002552 * Math.cos(4.09952672426 + 79.47883417571 * t);
-        Y2 += 0.00000002457 * Math.cos(1.09953412303 + 38.89811798311 * t);
-        Y2 += 0.00000002343 * Math.cos(3.50679449028 + 981.3875687218 * t);
-        Y2 += 0.00000002501 * Math.cos(3.24491806395 + 669.4009330803 * t);
-        Y2 += 0.00000002330 * Math.cos(2.37985529884 + 38.32866901151 * t);
-        Y2 += 0.00000002327 * Math.cos(5.10713891298 + 38.4250372311 * t);
-        Y2 += 0.00000002481 * Math.cos(0.85514029866 + 655.1738390787 * t);
-        Y2 += 0.00000002569 * Math.cos(2.65544269508 + 464.97504399731 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 37 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00000985355 * Math.cos(5.40479271994 + 38.3768531213 * t);
-        Y3 += 0.00000482798 * Math.cos(2.40351592403 + 37.88921815429 * t);
-        Y3 += 0.00000416447 * Math.cos(5.08276459732 + 0.2438174835 * t);
-        Y3 += 0.00000303825 * Math.cos(5.25036318156 + 39.86132582961 * t);
-        Y3 += 0.00000089203 * Math.cos(6.23576998030 + 36.892380413 * t);
-        Y3 += 0.00000070862 * Math.cos(4.26820111330 + 76.50988875911 * t);
-        Y3 += 0.00000028900 * Math.cos(4.07922314280 + 41.3457985379 * t);
-        Y3 += 0.00000022279 * Math.cos(1.38807052555 + 206.42936592071 * t);
-        Y3 += 0.00000021480 * Math.cos(0.30279640762 + 220.6564599223 * t);
-        Y3 += 0.00000016157 * Math.cos(4.26502283154 + 522.8212355773 * t);
-        Y3 += 0.00000015714 * Math.cos(3.19639937559 + 537.0483295789 * t);
-        Y3 += 0.00000011404 * Math.cos(0.68881522230 + 35.40790770471 * t);
-        Y3 += 0.00000013199 * Math.cos(4.77296321336 + 7.3573644843 * t);
-        Y3 += 0.00000007024 * Math.cos(5.41129077346 + 3.21276290011 * t);
-        Y3 += 0.00000006772 * Math.cos(5.90918041474 + 69.3963417583 * t);
-        Y3 += 0.00000004517 * Math.cos(1.71813394760 + 45.49040012211 * t);
-        Y3 += 0.00000004523 * Math.cos(2.61625996387 + 31.2633061205 * t);
-        Y3 += 0.00000003682 * Math.cos(3.04341607939 + 98.6561710411 * t);
-        Y3 += 0.00000003656 * Math.cos(2.17226292493 + 968.64494742849 * t);
-        Y3 += 0.00000003927 * Math.cos(5.25979459691 + 426.8420083595 * t);
-        Y3 += 0.00000003199 * Math.cos(3.24406648940 + 1519.6765535255 * t);
-        Y3 += 0.00000003498 * Math.cos(4.84556329465 + 407.9344936969 * t);
-        Y3 += 0.00000003304 * Math.cos(3.81825313228 + 422.1615876985 * t);
-        Y3 += 0.00000003331 * Math.cos(3.54124873059 + 36.404745446 * t);
-        Y3 += 0.00000003244 * Math.cos(4.42247914038 + 484.2005649725 * t);
-        Y3 += 0.00000002689 * Math.cos(5.61171743826 + 441.06910236111 * t);
-        Y3 += 0.00000003247 * Math.cos(3.33592493083 + 498.42765897409 * t);
-        Y3 += 0.00000002651 * Math.cos(2.02749548795 + 304.84171947829 * t);
-        Y3 += 0.00000002645 * Math.cos(0.90433895865 + 461.77909604459 * t);
-        Y3 += 0.00000002542 * Math.cos(1.05108120438 + 444.5830566264 * t);
-        Y3 += 0.00000002524 * Math.cos(5.46978523129 + 433.9555553603 * t);
-        Y3 += 0.00000002472 * Math.cos(0.92177286185 + 319.06881347989 * t);
-        Y3 += 0.00000002355 * Math.cos(2.03272387563 + 447.552002043 * t);
-        Y3 += 0.00000002876 * Math.cos(3.65433810175 + 853.4401992355 * t);
-        Y3 += 0.00000002279 * Math.cos(6.20789133449 + 458.810150628 * t);
-        Y3 += 0.00000002147 * Math.cos(1.06531556689 + 175.40987728371 * t);
-        Y3 += 0.00000002637 * Math.cos(2.06613866653 + 73.5409433425 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 14 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00003455306 * Math.cos(2.04385259535 + 38.3768531213 * t);
-        Y4 += 0.00000047405 * Math.cos(0.64311364094 + 0.2438174835 * t);
-        Y4 += 0.00000021936 * Math.cos(4.30052120876 + 37.88921815429 * t);
-        Y4 += 0.00000015596 * Math.cos(0.30774488881 + 76.50988875911 * t);
-        Y4 += 0.00000017186 * Math.cos(3.96705739007 + 39.86132582961 * t);
-        Y4 += 0.00000017459 * Math.cos(3.25820107685 + 36.892380413 * t);
-        Y4 += 0.00000004229 * Math.cos(6.14484758916 + 515.70768857651 * t);
-        Y4 += 0.00000004334 * Math.cos(3.84568484898 + 433.9555553603 * t);
-        Y4 += 0.00000003547 * Math.cos(1.04322259069 + 989.98558843089 * t);
-        Y4 += 0.00000003155 * Math.cos(0.14083942013 + 467.40817033709 * t);
-        Y4 += 0.00000003017 * Math.cos(4.77718347184 + 227.77000692311 * t);
-        Y4 += 0.00000002981 * Math.cos(5.01159762849 + 1.7282901918 * t);
-        Y4 += 0.00000002295 * Math.cos(4.84988240730 + 220.6564599223 * t);
-        Y4 += 0.00000002296 * Math.cos(3.13566627364 + 206.42936592071 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 1 term of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000026291 * Math.cos(2.14645097520 + 38.3768531213 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 133 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.92866054405 * Math.cos(1.44103930278 + 38.1330356378 * t);
-        Z0 += 0.01245978462;
-        Z0 += 0.00474333567 * Math.cos(2.52218774238 + 36.6485629295 * t);
-        Z0 += 0.00451987936 * Math.cos(3.50949720541 + 39.6175083461 * t);
-        Z0 += 0.00417558068 * Math.cos(5.91310695421 + 76.2660712756 * t);
-        Z0 += 0.00084104329 * Math.cos(4.38928900096 + 1.4844727083 * t);
-        Z0 += 0.00032704958 * Math.cos(1.52048692001 + 74.7815985673 * t);
-        Z0 += 0.00030873335 * Math.cos(3.29017611456 + 35.1640902212 * t);
-        Z0 += 0.00025812584 * Math.cos(3.19303128782 + 2.9689454166 * t);
-        Z0 += 0.00016865319 * Math.cos(2.13251104425 + 41.1019810544 * t);
-        Z0 += 0.00011789909 * Math.cos(3.60001877675 + 213.299095438 * t);
-        Z0 += 0.00009770125 * Math.cos(2.80133971586 + 73.297125859 * t);
-        Z0 += 0.00011279680 * Math.cos(3.55816676334 + 529.6909650946 * t);
-        Z0 += 0.00004119873 * Math.cos(1.67934316836 + 77.7505439839 * t);
-        Z0 += 0.00002818034 * Math.cos(4.10661077794 + 114.3991069134 * t);
-        Z0 += 0.00002868677 * Math.cos(4.27011526203 + 33.6796175129 * t);
-        Z0 += 0.00002213464 * Math.cos(1.96045135168 + 4.4534181249 * t);
-        Z0 += 0.00001865650 * Math.cos(5.05540709577 + 71.8126531507 * t);
-        Z0 += 0.00000840177 * Math.cos(0.94268885160 + 42.5864537627 * t);
-        Z0 += 0.00000457516 * Math.cos(5.71650412080 + 108.4612160802 * t);
-        Z0 += 0.00000530252 * Math.cos(0.85800267793 + 111.4301614968 * t);
-        Z0 += 0.00000490859 * Math.cos(6.07827301209 + 112.9146342051 * t);
-        Z0 += 0.00000331254 * Math.cos(0.29304964526 + 70.3281804424 * t);
-        Z0 += 0.00000330045 * Math.cos(2.83839676215 + 426.598190876 * t);
-        Z0 += 0.00000273589 * Math.cos(3.91013681794 + 1059.3819301892 * t);
-        Z0 += 0.00000277586 * Math.cos(1.45092010545 + 148.0787244263 * t);
-        Z0 += 0.00000274474 * Math.cos(5.42657022437 + 32.1951448046 * t);
-        Z0 += 0.00000205306 * Math.cos(0.75818737085 + 5.9378908332 * t);
-        Z0 += 0.00000173516 * Math.cos(5.85498030099 + 145.1097790097 * t);
-        Z0 += 0.00000141275 * Math.cos(1.73147597657 + 28.5718080822 * t);
-        Z0 += 0.00000139093 * Math.cos(1.67466701191 + 184.7272873558 * t);
-        Z0 += 0.00000143647 * Math.cos(2.51620047812 + 37.611770776 * t);
-        Z0 += 0.00000136955 * Math.cos(0.20339778664 + 79.2350166922 * t);
-        Z0 += 0.00000126296 * Math.cos(4.40661385040 + 37.1698277913 * t);
-        Z0 += 0.00000120906 * Math.cos(1.61767636602 + 39.0962434843 * t);
-        Z0 += 0.00000111761 * Math.cos(6.20948230785 + 98.8999885246 * t);
-        Z0 += 0.00000140758 * Math.cos(3.50944989694 + 38.6543004996 * t);
-        Z0 += 0.00000111589 * Math.cos(4.18561395578 + 47.6942631934 * t);
-        Z0 += 0.00000133509 * Math.cos(4.78977105547 + 38.084851528 * t);
-        Z0 += 0.00000102622 * Math.cos(0.81673762159 + 4.192785694 * t);
-        Z0 += 0.00000133292 * Math.cos(1.23386935925 + 38.1812197476 * t);
-        Z0 += 0.00000098771 * Math.cos(0.72335005782 + 106.9767433719 * t);
-        Z0 += 0.00000093919 * Math.cos(0.56607810948 + 206.1855484372 * t);
-        Z0 += 0.00000081727 * Math.cos(3.47861315258 + 220.4126424388 * t);
-        Z0 += 0.00000074559 * Math.cos(2.31518880439 + 312.1990839626 * t);
-        Z0 += 0.00000074401 * Math.cos(5.99935727164 + 181.7583419392 * t);
-        Z0 += 0.00000073141 * Math.cos(1.80069951634 + 137.0330241624 * t);
-        Z0 += 0.00000066838 * Math.cos(1.87185330904 + 221.3758502853 * t);
-        Z0 += 0.00000058303 * Math.cos(5.61662561548 + 35.685355083 * t);
-        Z0 += 0.00000051685 * Math.cos(6.02831347649 + 44.070926471 * t);
-        Z0 += 0.00000051928 * Math.cos(0.40473854286 + 40.5807161926 * t);
-        Z0 += 0.00000048182 * Math.cos(2.97141991737 + 37.8724032069 * t);
-        Z0 += 0.00000049439 * Math.cos(1.66178905717 + 68.8437077341 * t);
-        Z0 += 0.00000047742 * Math.cos(3.05261105371 + 38.3936680687 * t);
-        Z0 += 0.00000046428 * Math.cos(2.66596739242 + 146.594251718 * t);
-        Z0 += 0.00000050936 * Math.cos(0.19994012329 + 30.0562807905 * t);
-        Z0 += 0.00000041127 * Math.cos(6.05239303825 + 115.8835796217 * t);
-        Z0 += 0.00000055537 * Math.cos(2.11977296055 + 109.9456887885 * t);
-        Z0 += 0.00000041357 * Math.cos(0.86667380713 + 143.6253063014 * t);
-        Z0 += 0.00000044492 * Math.cos(6.00613878606 + 149.5631971346 * t);
-        Z0 += 0.00000037856 * Math.cos(5.19945796177 + 72.0732855816 * t);
-        Z0 += 0.00000047361 * Math.cos(3.58964541604 + 38.0211610532 * t);
-        Z0 += 0.00000034690 * Math.cos(1.47398766326 + 8.0767548473 * t);
-        Z0 += 0.00000037349 * Math.cos(5.15067903040 + 33.9402499438 * t);
-        Z0 += 0.00000034386 * Math.cos(6.15246630929 + 218.4069048687 * t);
-        Z0 += 0.00000047180 * Math.cos(2.43405967107 + 38.2449102224 * t);
-        Z0 += 0.00000033382 * Math.cos(0.88396990078 + 42.3258213318 * t);
-        Z0 += 0.00000040753 * Math.cos(3.59668759304 + 522.5774180938 * t);
-        Z0 += 0.00000033071 * Math.cos(2.02572550598 + 258.0244132148 * t);
-        Z0 += 0.00000038849 * Math.cos(5.79294381756 + 46.2097904851 * t);
-        Z0 += 0.00000031716 * Math.cos(0.30412624027 + 536.8045120954 * t);
-        Z0 += 0.00000027605 * Math.cos(2.81540405940 + 183.2428146475 * t);
-        Z0 += 0.00000024616 * Math.cos(0.40597272412 + 30.7106720963 * t);
-        Z0 += 0.00000021716 * Math.cos(0.90792314747 + 175.1660598002 * t);
-        Z0 += 0.00000021634 * Math.cos(3.25469228647 + 388.4651552382 * t);
-        Z0 += 0.00000020384 * Math.cos(5.80954414865 + 7.4223635415 * t);
-        Z0 += 0.00000018640 * Math.cos(1.06424642993 + 180.2738692309 * t);
-        Z0 += 0.00000016716 * Math.cos(0.02332590259 + 255.0554677982 * t);
-        Z0 += 0.00000018790 * Math.cos(0.62408059806 + 35.212274331 * t);
-        Z0 += 0.00000016990 * Math.cos(2.19726523790 + 294.6729761443 * t);
-        Z0 += 0.00000016083 * Math.cos(4.20629091415 + 0.9632078465 * t);
-        Z0 += 0.00000021571 * Math.cos(2.39337706760 + 152.5321425512 * t);
-        Z0 += 0.00000017102 * Math.cos(5.39964889794 + 41.0537969446 * t);
-        Z0 += 0.00000014503 * Math.cos(4.66614523797 + 110.2063212194 * t);
-        Z0 += 0.00000015218 * Math.cos(2.93182248771 + 219.891377577 * t);
-        Z0 += 0.00000014757 * Math.cos(2.02029526083 + 105.4922706636 * t);
-        Z0 += 0.00000013303 * Math.cos(2.09362099250 + 639.897286314 * t);
-        Z0 += 0.00000013582 * Math.cos(0.99222619680 + 44.7253177768 * t);
-        Z0 += 0.00000011309 * Math.cos(4.15253392707 + 487.3651437628 * t);
-        Z0 += 0.00000012521 * Math.cos(0.41449986025 + 186.2117600641 * t);
-        Z0 += 0.00000012363 * Math.cos(3.07599476497 + 6.592282139 * t);
-        Z0 += 0.00000010825 * Math.cos(4.13817476053 + 0.5212648618 * t);
-        Z0 += 0.00000014304 * Math.cos(5.15644933777 + 31.5407534988 * t);
-        Z0 += 0.00000010056 * Math.cos(4.27077049743 + 1589.0728952838 * t);
-        Z0 += 0.00000009355 * Math.cos(1.23360360711 + 216.9224321604 * t);
-        Z0 += 0.00000008774 * Math.cos(5.77195684843 + 12.5301729722 * t);
-        Z0 += 0.00000008445 * Math.cos(0.17584724644 + 291.7040307277 * t);
-        Z0 += 0.00000008927 * Math.cos(2.36869187243 + 331.3215390738 * t);
-        Z0 += 0.00000009613 * Math.cos(0.28151591238 + 60.7669528868 * t);
-        Z0 += 0.00000008279 * Math.cos(5.72084525545 + 36.7604375141 * t);
-        Z0 += 0.00000009111 * Math.cos(3.49027191661 + 45.2465826386 * t);
-        Z0 += 0.00000008178 * Math.cos(0.25637861075 + 39.5056337615 * t);
-        Z0 += 0.00000008598 * Math.cos(3.10287346009 + 256.5399405065 * t);
-        Z0 += 0.00000009489 * Math.cos(4.94205919676 + 151.0476698429 * t);
-        Z0 += 0.00000008564 * Math.cos(2.15904622462 + 274.0660483248 * t);
-        Z0 += 0.00000007474 * Math.cos(2.93279436008 + 27.0873353739 * t);
-        Z0 += 0.00000007944 * Math.cos(0.38277699900 + 10213.285546211 * t);
-        Z0 += 0.00000007132 * Math.cos(1.50971234331 + 944.9828232758 * t);
-        Z0 += 0.00000009005 * Math.cos(0.07284074730 + 419.4846438752 * t);
-        Z0 += 0.00000007642 * Math.cos(5.56097006597 + 187.6962327724 * t);
-        Z0 += 0.00000007705 * Math.cos(1.54152595157 + 84.3428261229 * t);
-        Z0 += 0.00000006896 * Math.cos(4.71453324740 + 406.1031376411 * t);
-        Z0 += 0.00000007282 * Math.cos(5.81348163927 + 316.3918696566 * t);
-        Z0 += 0.00000006215 * Math.cos(5.27967153537 + 7.1135470008 * t);
-        Z0 += 0.00000006090 * Math.cos(4.48506819561 + 415.2918581812 * t);
-        Z0 += 0.00000006316 * Math.cos(0.59502514374 + 453.424893819 * t);
-        Z0 += 0.00000006177 * Math.cos(5.20115334051 + 80.7194894005 * t);
-        Z0 += 0.00000006324 * Math.cos(2.18406254461 + 142.1408335931 * t);
-        Z0 += 0.00000005646 * Math.cos(0.76840537906 + 11.0457002639 * t);
-        Z0 += 0.00000006102 * Math.cos(5.58764378724 + 662.531203563 * t);
-        Z0 += 0.00000005334 * Math.cos(4.52703538458 + 103.0927742186 * t);
-        Z0 += 0.00000006269 * Math.cos(1.95162790177 + 605.9570363702 * t);
-        Z0 += 0.00000005591 * Math.cos(5.20631788297 + 14.0146456805 * t);
-        Z0 += 0.00000004914 * Math.cos(1.39906038110 + 253.5709950899 * t);
-        Z0 += 0.00000004519 * Math.cos(2.07610590431 + 2042.4977891028 * t);
-        Z0 += 0.00000005681 * Math.cos(4.80791039970 + 641.1211265914 * t);
-        Z0 += 0.00000006294 * Math.cos(0.56936923702 + 31.019488637 * t);
-        Z0 += 0.00000004758 * Math.cos(2.54312258712 + 367.9701020033 * t);
-        Z0 += 0.00000004406 * Math.cos(0.33696669222 + 328.3525936572 * t);
-        Z0 += 0.00000004390 * Math.cos(5.08949604858 + 286.596221297 * t);
-        Z0 += 0.00000004678 * Math.cos(4.87546696295 + 442.7517005706 * t);
-        Z0 += 0.00000004407 * Math.cos(5.58110402011 + 252.0865223816 * t);
-        Z0 += 0.00000004305 * Math.cos(1.31724140028 + 493.0424021651 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 61 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.06832633707 * Math.cos(3.80782656293 + 38.1330356378 * t);
-        Z1 -= 0.00064598028;
-        Z1 += 0.00042738331 * Math.cos(4.82540335637 + 36.6485629295 * t);
-        Z1 += 0.00031421638 * Math.cos(6.08083255385 + 39.6175083461 * t);
-        Z1 += 0.00027088623 * Math.cos(1.97557659098 + 76.2660712756 * t);
-        Z1 += 0.00005924197 * Math.cos(0.48500737803 + 1.4844727083 * t);
-        Z1 += 0.00002429056 * Math.cos(3.86784381378 + 74.7815985673 * t);
-        Z1 += 0.00002107258 * Math.cos(6.19720726581 + 35.1640902212 * t);
-        Z1 += 0.00001644542 * Math.cos(5.76041185818 + 2.9689454166 * t);
-        Z1 += 0.00001059588 * Math.cos(4.89687990866 + 41.1019810544 * t);
-        Z1 += 0.00001084464 * Math.cos(5.33722455731 + 213.299095438 * t);
-        Z1 += 0.00000880611 * Math.cos(5.70150456912 + 529.6909650946 * t);
-        Z1 += 0.00000824125 * Math.cos(5.04137560987 + 73.297125859 * t);
-        Z1 += 0.00000250821 * Math.cos(4.25953295692 + 77.7505439839 * t);
-        Z1 += 0.00000158517 * Math.cos(0.13500997625 + 114.3991069134 * t);
-        Z1 += 0.00000129390 * Math.cos(4.76999039957 + 4.4534181249 * t);
-        Z1 += 0.00000105033 * Math.cos(0.99234583035 + 33.6796175129 * t);
-        Z1 += 0.00000054734 * Math.cos(3.96812588022 + 42.5864537627 * t);
-        Z1 += 0.00000034799 * Math.cos(4.30403521625 + 37.611770776 * t);
-        Z1 += 0.00000041340 * Math.cos(2.29314729799 + 206.1855484372 * t);
-        Z1 += 0.00000028374 * Math.cos(1.67853213747 + 111.4301614968 * t);
-        Z1 += 0.00000025340 * Math.cos(1.70015942799 + 220.4126424388 * t);
-        Z1 += 0.00000026021 * Math.cos(6.09040669128 + 426.598190876 * t);
-        Z1 += 0.00000027198 * Math.cos(5.95188476775 + 71.8126531507 * t);
-        Z1 += 0.00000021598 * Math.cos(2.17619854748 + 112.9146342051 * t);
-        Z1 += 0.00000025154 * Math.cos(4.13631230281 + 28.5718080822 * t);
-        Z1 += 0.00000020543 * Math.cos(1.56946393801 + 38.6543004996 * t);
-        Z1 += 0.00000017216 * Math.cos(2.81703507859 + 98.8999885246 * t);
-        Z1 += 0.00000019926 * Math.cos(3.15301554161 + 108.4612160802 * t);
-        Z1 += 0.00000015544 * Math.cos(2.07364839388 + 40.5807161926 * t);
-        Z1 += 0.00000015357 * Math.cos(5.45891321516 + 522.5774180938 * t);
-        Z1 += 0.00000012266 * Math.cos(3.82427247378 + 5.9378908332 * t);
-        Z1 += 0.00000013587 * Math.cos(1.34795861192 + 47.6942631934 * t);
-        Z1 += 0.00000010839 * Math.cos(4.75461825384 + 536.8045120954 * t);
-        Z1 += 0.00000010785 * Math.cos(2.61566414257 + 79.2350166922 * t);
-        Z1 += 0.00000010916 * Math.cos(3.88744647444 + 35.685355083 * t);
-        Z1 += 0.00000009833 * Math.cos(3.62341506247 + 38.1812197476 * t);
-        Z1 += 0.00000009849 * Math.cos(0.89613145346 + 38.084851528 * t);
-        Z1 += 0.00000009317 * Math.cos(0.51297445145 + 37.1698277913 * t);
-        Z1 += 0.00000008955 * Math.cos(4.00532631258 + 39.0962434843 * t);
-        Z1 += 0.00000007089 * Math.cos(2.29610703652 + 137.0330241624 * t);
-        Z1 += 0.00000007573 * Math.cos(3.20619266484 + 4.192785694 * t);
-        Z1 += 0.00000008063 * Math.cos(5.86511590361 + 1059.3819301892 * t);
-        Z1 += 0.00000007655 * Math.cos(3.39616255650 + 145.1097790097 * t);
-        Z1 += 0.00000006061 * Math.cos(2.31235275416 + 109.9456887885 * t);
-        Z1 += 0.00000005726 * Math.cos(6.23400745185 + 312.1990839626 * t);
-        Z1 += 0.00000003739 * Math.cos(2.50010254963 + 30.0562807905 * t);
-        Z1 += 0.00000004145 * Math.cos(2.00938305966 + 44.070926471 * t);
-        Z1 += 0.00000003480 * Math.cos(5.88971113590 + 38.0211610532 * t);
-        Z1 += 0.00000003467 * Math.cos(4.73412534395 + 38.2449102224 * t);
-        Z1 += 0.00000004736 * Math.cos(6.28313624461 + 149.5631971346 * t);
-        Z1 += 0.00000003905 * Math.cos(4.49400805134 + 106.9767433719 * t);
-        Z1 += 0.00000002982 * Math.cos(1.80386443362 + 46.2097904851 * t);
-        Z1 += 0.00000003538 * Math.cos(5.27114846878 + 37.8724032069 * t);
-        Z1 += 0.00000003508 * Math.cos(5.35267669439 + 38.3936680687 * t);
-        Z1 += 0.00000002821 * Math.cos(1.10242173566 + 33.9402499438 * t);
-        Z1 += 0.00000003150 * Math.cos(2.14792830412 + 115.8835796217 * t);
-        Z1 += 0.00000003329 * Math.cos(3.56226463770 + 181.7583419392 * t);
-        Z1 += 0.00000002787 * Math.cos(1.21334651843 + 72.0732855816 * t);
-        Z1 += 0.00000002453 * Math.cos(3.18401661435 + 42.3258213318 * t);
-        Z1 += 0.00000002523 * Math.cos(5.51669920239 + 8.0767548473 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 20 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00291361164 * Math.cos(5.57085222635 + 38.1330356378 * t);
-        Z2 += 0.00002207820 * Math.cos(0.45423510946 + 36.6485629295 * t);
-        Z2 -= 0.00002644401;
-        Z2 += 0.00001184984 * Math.cos(3.62696666572 + 76.2660712756 * t);
-        Z2 += 0.00000875873 * Math.cos(1.60783110298 + 39.6175083461 * t);
-        Z2 += 0.00000253280 * Math.cos(2.25499665308 + 1.4844727083 * t);
-        Z2 += 0.00000139875 * Math.cos(1.66224942942 + 35.1640902212 * t);
-        Z2 += 0.00000105837 * Math.cos(5.61746558118 + 74.7815985673 * t);
-        Z2 += 0.00000055479 * Math.cos(0.51417309302 + 213.299095438 * t);
-        Z2 += 0.00000051858 * Math.cos(1.20450519900 + 2.9689454166 * t);
-        Z2 += 0.00000040183 * Math.cos(1.45604293605 + 529.6909650946 * t);
-        Z2 += 0.00000041153 * Math.cos(0.64158589676 + 73.297125859 * t);
-        Z2 += 0.00000013931 * Math.cos(0.27428875486 + 41.1019810544 * t);
-        Z2 += 0.00000009181 * Math.cos(2.83312722213 + 33.6796175129 * t);
-        Z2 += 0.00000007421 * Math.cos(4.32019600438 + 206.1855484372 * t);
-        Z2 += 0.00000006998 * Math.cos(5.87666052849 + 77.7505439839 * t);
-        Z2 += 0.00000007085 * Math.cos(1.66037085233 + 71.8126531507 * t);
-        Z2 += 0.00000006818 * Math.cos(1.56386946094 + 114.3991069134 * t);
-        Z2 += 0.00000004838 * Math.cos(0.83470875824 + 220.4126424388 * t);
-        Z2 += 0.00000002545 * Math.cos(0.43712705655 + 4.4534181249 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 8 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00008221290 * Math.cos(1.01632472042 + 38.1330356378 * t);
-        Z3 += 0.00000103933;
-        Z3 += 0.00000070154 * Math.cos(2.36502685986 + 36.6485629295 * t);
-        Z3 += 0.00000031617 * Math.cos(5.35266161292 + 76.2660712756 * t);
-        Z3 += 0.00000015470 * Math.cos(3.21170859085 + 39.6175083461 * t);
-        Z3 += 0.00000007111 * Math.cos(3.99067059016 + 1.4844727083 * t);
-        Z3 += 0.00000004656 * Math.cos(3.62376309338 + 35.1640902212 * t);
-        Z3 += 0.00000002988 * Math.cos(1.03727330540 + 74.7815985673 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 1 term of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000172227 * Math.cos(2.66872693322 + 38.1330356378 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 1 term of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000003394 * Math.cos(4.70646877989 + 38.1330356378 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
@@ -1,3051 +0,0 @@
-package net.arwix.astronomy.VSOP87;
-
-/*
-
-   VENUS - VSOP87 Series Version C
-   HELIOCENTRIC DYNAMICAL ECLIPTIC AND EQUINOX OF THE DATE
-   Rectangular (X,Y,Z) Coordinates in AU (Astronomical Units)
-
-   Series Validity Span: 2000 BC < Date < 6000 AD
-   Theoretical accuracy over span: ±1 arc sec
-
-   R*R = X*X + Y*Y + Z*Z
-
-   t = (JD - 2451545) / 365250
-
-
-   Java Programming Language
-
-   VSOP87 Functions Source Code
-   Generated By The VSOP87 Source Code Generator Tool
-   (c) Jay Tanner 2013
-
-   Ref:
-   Planetary Theories in Rectangular and Spherical Variables
-   VSOP87 Solutions
-   Pierre Bretagnon, Gerard Francou
-   Journal of Astronomy & Astrophysics
-   vol. 202, p309-p315
-   1988
-
-   Source code provided under the provisions of the
-   GNU Affero General Public License, version 3.
-   http://www.gnu.org/licenses/agpl.html
-
-*/
-abstract class C_Venus {
-
-    static double X0(double t) // 685 terms of order 0
-    {
-        double X0 = 0;
-        X0 += 0.72268045621 * Math.cos(3.17614669179 + 10213.5293636945 * t);
-        X0 += 0.00733886107 * Math.cos(5.43699242686 + 0.2438174835 * t);
-        X0 += 0.00244692613 * Math.cos(4.05605630888 + 20426.8149099055 * t);
-        X0 += 0.00063317702 * Math.cos(0.49335411201 + 10213.0417287275 * t);
-        X0 += 0.00002795043 * Math.cos(0.33061720033 + 2353.1099712553 * t);
-        X0 += 0.00001941766 * Math.cos(4.23356531450 + 1577.0997249643 * t);
-        X0 += 0.00001242687 * Math.cos(4.93613589610 + 30640.1004561165 * t);
-        X0 += 0.00001163369 * Math.cos(2.88004293502 + 18073.9487561337 * t);
-        X0 += 0.00001044280 * Math.cos(1.75322105845 + 6283.3196674749 * t);
-        X0 += 0.00000767420 * Math.cos(0.59253172189 + 529.9347825781 * t);
-        X0 += 0.00000669994 * Math.cos(1.45757409332 + 14143.7390599141 * t);
-        X0 += 0.00000657435 * Math.cos(0.50103996032 + 8636.18582124671 * t);
-        X0 += 0.00000476814 * Math.cos(5.84349432310 + 10187.2310438947 * t);
-        X0 += 0.00000475078 * Math.cos(3.65048802648 + 10239.8276834943 * t);
-        X0 += 0.00000559353 * Math.cos(1.16579177696 + 22004.1584523533 * t);
-        X0 += 0.00000544577 * Math.cos(2.71804028246 + 11790.8729061423 * t);
-        X0 += 0.00000408020 * Math.cos(3.92608771235 + 775.7664288075 * t);
-        X0 += 0.00000281345 * Math.cos(2.80298571306 + 9683.8383985999 * t);
-        X0 += 0.00000270035 * Math.cos(3.67770752796 + 9438.0067523705 * t);
-        X0 += 0.00000268860 * Math.cos(0.41990030277 + 10743.2203287891 * t);
-        X0 += 0.00000299980 * Math.cos(5.65601998711 + 5507.3094211839 * t);
-        X0 += 0.00000214307 * Math.cos(0.74923674788 + 10022.0810975829 * t);
-        X0 += 0.00000241347 * Math.cos(5.80682329886 + 10989.0519750185 * t);
-        X0 += 0.00000208372 * Math.cos(2.46285909236 + 10404.9776298061 * t);
-        X0 += 0.00000271224 * Math.cos(2.62417096158 + 19897.1239448109 * t);
-        X0 += 0.00000264276 * Math.cos(5.12064283406 + 9153.6597985383 * t);
-        X0 += 0.00000214535 * Math.cos(1.37526779747 + 20426.32727493849 * t);
-        X0 += 0.00000175488 * Math.cos(6.12331394777 + 191.2044486281 * t);
-        X0 += 0.00000123055 * Math.cos(1.58857792634 + 1059.6257476727 * t);
-        X0 += 0.00000154230 * Math.cos(5.35560161427 + 4705.9761250271 * t);
-        X0 += 0.00000147037 * Math.cos(5.55854050911 + 19651.2922985815 * t);
-        X0 += 0.00000100153 * Math.cos(0.79332045392 + 9437.5191174035 * t);
-        X0 += 0.00000069555 * Math.cos(0.09311754829 + 9104.1508116011 * t);
-        X0 += 0.00000060317 * Math.cos(3.11675324526 + 11322.9079157879 * t);
-        X0 += 0.00000081789 * Math.cos(4.14338512686 + 15721.0826023619 * t);
-        X0 += 0.00000058874 * Math.cos(3.05764615349 + 20618.2631760171 * t);
-        X0 += 0.00000060776 * Math.cos(3.78470873239 + 4552.1973145423 * t);
-        X0 += 0.00000046411 * Math.cos(0.52070218977 + 10192.7539682021 * t);
-        X0 += 0.00000046285 * Math.cos(2.68960619882 + 10234.3047591869 * t);
-        X0 += 0.00000062288 * Math.cos(2.59109725374 + 25934.3681485729 * t);
-        X0 += 0.00000050365 * Math.cos(4.75194275844 + 8623.96883344369 * t);
-        X0 += 0.00000057275 * Math.cos(0.64239189151 + 3154.4432674121 * t);
-        X0 += 0.00000044993 * Math.cos(1.63208209330 + 19367.4329797163 * t);
-        X0 += 0.00000040167 * Math.cos(3.21167128301 + 9411.7084325707 * t);
-        X0 += 0.00000047716 * Math.cos(0.86304453306 + 213.5429129215 * t);
-        X0 += 0.00000039763 * Math.cos(1.64025153322 + 801.5771136403 * t);
-        X0 += 0.00000036106 * Math.cos(0.00294457034 + 11015.3502948183 * t);
-        X0 += 0.00000045150 * Math.cos(2.05121968981 + 29580.7185259273 * t);
-        X0 += 0.00000036973 * Math.cos(4.39488677348 + 7058.8422787989 * t);
-        X0 += 0.00000044928 * Math.cos(2.21932487684 + 13367.7288136231 * t);
-        X0 += 0.00000027822 * Math.cos(1.80340755563 + 1109.1347346099 * t);
-        X0 += 0.00000031714 * Math.cos(5.71016699928 + 15874.8614128467 * t);
-        X0 += 0.00000036279 * Math.cos(3.91641576039 + 10000.23026825651 * t);
-        X0 += 0.00000035360 * Math.cos(5.58217966591 + 10426.8284591325 * t);
-        X0 += 0.00000025530 * Math.cos(5.55124903584 + 7860.6632099227 * t);
-        X0 += 0.00000024951 * Math.cos(5.10701160912 + 13368.2164485901 * t);
-        X0 += 0.00000020285 * Math.cos(2.70230185537 + 10220.6429106953 * t);
-        X0 += 0.00000020275 * Math.cos(0.50470014586 + 10206.4158166937 * t);
-        X0 += 0.00000021291 * Math.cos(2.94920881997 + 3128.6325825793 * t);
-        X0 += 0.00000019173 * Math.cos(2.04473251084 + 7.3573644843 * t);
-        X0 += 0.00000018901 * Math.cos(5.32807743689 + 26.0545023163 * t);
-        X0 += 0.00000021874 * Math.cos(3.64157746468 + 17297.9385098427 * t);
-        X0 += 0.00000019888 * Math.cos(2.97802303514 + 3930.4535137031 * t);
-        X0 += 0.00000015237 * Math.cos(4.38451579542 + 9830.6328314713 * t);
-        X0 += 0.00000017432 * Math.cos(0.19412655939 + 3531.81687532789 * t);
-        X0 += 0.00000014522 * Math.cos(5.10931707627 + 10596.4258959177 * t);
-        X0 += 0.00000016153 * Math.cos(2.06702370588 + 7084.6529636317 * t);
-        X0 += 0.00000016091 * Math.cos(2.35723470212 + 20213.5158144675 * t);
-        X0 += 0.00000014842 * Math.cos(4.06993785667 + 29864.5778447925 * t);
-        X0 += 0.00000011112 * Math.cos(3.77156689319 + 28287.2343023447 * t);
-        X0 += 0.00000012828 * Math.cos(2.04993681745 + 1589.3167127673 * t);
-        X0 += 0.00000011212 * Math.cos(2.47660347576 + 9154.1474335053 * t);
-        X0 += 0.00000014376 * Math.cos(3.86295510498 + 23581.5019948011 * t);
-        X0 += 0.00000012175 * Math.cos(4.86624913254 + 21228.63584102931 * t);
-        X0 += 0.00000009393 * Math.cos(0.62322150367 + 11272.91129388371 * t);
-        X0 += 0.00000012824 * Math.cos(1.41267695017 + 18837.25437965469 * t);
-        X0 += 0.00000009207 * Math.cos(0.63567894131 + 5661.5758666357 * t);
-        X0 += 0.00000008622 * Math.cos(4.96988848671 + 21536.1934619989 * t);
-        X0 += 0.00000011653 * Math.cos(6.20176223180 + 3340.8562441833 * t);
-        X0 += 0.00000011496 * Math.cos(5.06383150221 + 21228.1482060623 * t);
-        X0 += 0.00000009511 * Math.cos(0.26562072904 + 17298.4261448097 * t);
-        X0 += 0.00000011281 * Math.cos(4.58316811302 + 9786.44353785149 * t);
-        X0 += 0.00000008498 * Math.cos(3.85640563749 + 1577.5873599313 * t);
-        X0 += 0.00000010763 * Math.cos(1.23302415918 + 9929.6700448293 * t);
-        X0 += 0.00000008847 * Math.cos(1.67978485166 + 29051.0275608327 * t);
-        X0 += 0.00000010378 * Math.cos(1.97768679369 + 10497.38868255971 * t);
-        X0 += 0.00000007498 * Math.cos(5.81617198925 + 40853.3860023275 * t);
-        X0 += 0.00000007375 * Math.cos(0.80020428978 + 16496.6052136859 * t);
-        X0 += 0.00000008792 * Math.cos(0.46879154707 + 10208.0064393871 * t);
-        X0 += 0.00000008786 * Math.cos(2.74189610123 + 10219.0522880019 * t);
-        X0 += 0.00000007423 * Math.cos(4.16147581059 + 10175.5016910587 * t);
-        X0 += 0.00000007386 * Math.cos(5.33241732891 + 10251.55703633031 * t);
-        X0 += 0.00000006692 * Math.cos(4.38326911706 + 8094.2778683491 * t);
-        X0 += 0.00000006531 * Math.cos(1.17040611406 + 20419.7013629047 * t);
-        X0 += 0.00000005876 * Math.cos(2.02888635328 + 32217.4439985643 * t);
-        X0 += 0.00000007945 * Math.cos(3.46479056876 + 12566.3955174663 * t);
-        X0 += 0.00000005723 * Math.cos(2.30960586444 + 24357.0246061251 * t);
-        X0 += 0.00000005960 * Math.cos(0.33603622534 + 6681.46867088311 * t);
-        X0 += 0.00000005974 * Math.cos(2.16510174683 + 426.8420083595 * t);
-        X0 += 0.00000005761 * Math.cos(0.76064746748 + 2352.6223362883 * t);
-        X0 += 0.00000007279 * Math.cos(3.49868729640 + 11014.8626598513 * t);
-        X0 += 0.00000004942 * Math.cos(3.65960075191 + 3149.4079780717 * t);
-        X0 += 0.00000005638 * Math.cos(2.37982075471 + 382.6527147397 * t);
-        X0 += 0.00000006069 * Math.cos(2.45567436191 + 9683.35076363289 * t);
-        X0 += 0.00000004581 * Math.cos(2.63348121114 + 14765.48286075331 * t);
-        X0 += 0.00000006372 * Math.cos(0.20312515446 + 25158.3579022819 * t);
-        X0 += 0.00000004902 * Math.cos(1.17139302409 + 18837.7420146217 * t);
-        X0 += 0.00000004698 * Math.cos(0.27470947352 + 18849.4713674577 * t);
-        X0 += 0.00000005371 * Math.cos(4.44585316652 + 26088.1469590577 * t);
-        X0 += 0.00000005495 * Math.cos(3.29251136036 + 17086.2024832057 * t);
-        X0 += 0.00000005381 * Math.cos(5.41096356380 + 33794.7875410121 * t);
-        X0 += 0.00000004870 * Math.cos(2.78487952662 + 20453.1132297053 * t);
-        X0 += 0.00000003922 * Math.cos(2.87932422455 + 13745.5900565059 * t);
-        X0 += 0.00000004608 * Math.cos(4.34320749688 + 5661.0882316687 * t);
-        X0 += 0.00000003970 * Math.cos(3.08739367796 + 4731.7868098599 * t);
-        X0 += 0.00000003556 * Math.cos(0.34805582338 + 1551.2890401315 * t);
-        X0 += 0.00000004329 * Math.cos(3.40536513934 + 23958.8756027169 * t);
-        X0 += 0.00000003274 * Math.cos(3.43453378712 + 529.44714761109 * t);
-        X0 += 0.00000003328 * Math.cos(1.04776147690 + 18307.56341456009 * t);
-        X0 += 0.00000002787 * Math.cos(2.05633948048 + 11790.3852711753 * t);
-        X0 += 0.00000003603 * Math.cos(4.92117852022 + 14945.0723560709 * t);
-        X0 += 0.00000002949 * Math.cos(2.82363129219 + 10198.2768925095 * t);
-        X0 += 0.00000002944 * Math.cos(0.38707318449 + 10228.78183487951 * t);
-        X0 += 0.00000003221 * Math.cos(0.43638422425 + 20400.5165901057 * t);
-        X0 += 0.00000003653 * Math.cos(1.62294150568 + 29088.5675985015 * t);
-        X0 += 0.00000002683 * Math.cos(2.20899209567 + 6282.83203250789 * t);
-        X0 += 0.00000002848 * Math.cos(0.52334662875 + 11322.42028082089 * t);
-        X0 += 0.00000002745 * Math.cos(1.78121493204 + 5481.4987363511 * t);
-        X0 += 0.00000002426 * Math.cos(2.81466312460 + 6872.91693699471 * t);
-        X0 += 0.00000002262 * Math.cos(3.48344118262 + 7860.17557495569 * t);
-        X0 += 0.00000002431 * Math.cos(3.85595069475 + 30110.4094910219 * t);
-        X0 += 0.00000002218 * Math.cos(5.83392361752 + 17277.6507493173 * t);
-        X0 += 0.00000002955 * Math.cos(5.30083680831 + 27511.7116910207 * t);
-        X0 += 0.00000002300 * Math.cos(3.89687853440 + 3442.81876244891 * t);
-        X0 += 0.00000002424 * Math.cos(0.96902068311 + 20956.5058750001 * t);
-        X0 += 0.00000002622 * Math.cos(3.74514898210 + 9580.7456243813 * t);
-        X0 += 0.00000002032 * Math.cos(1.05319678961 + 20000.2167190295 * t);
-        X0 += 0.00000002206 * Math.cos(3.60536125643 + 537.0483295789 * t);
-        X0 += 0.00000002010 * Math.cos(0.56779046000 + 21202.3375212295 * t);
-        X0 += 0.00000002471 * Math.cos(5.74733670645 + 10846.3131030077 * t);
-        X0 += 0.00000002315 * Math.cos(5.33473916529 + 9573.14444241349 * t);
-        X0 += 0.00000002188 * Math.cos(5.98208918864 + 9967.69771746511 * t);
-        X0 += 0.00000002278 * Math.cos(4.39189942690 + 10110.4365894759 * t);
-        X0 += 0.00000002278 * Math.cos(5.10198662047 + 10316.6221379131 * t);
-        X0 += 0.00000001808 * Math.cos(4.00370769986 + 22779.6810636773 * t);
-        X0 += 0.00000002244 * Math.cos(2.44298085439 + 5507.7970561509 * t);
-        X0 += 0.00000001796 * Math.cos(3.09913214862 + 7063.87756813929 * t);
-        X0 += 0.00000002118 * Math.cos(3.51159951397 + 10459.3610099239 * t);
-        X0 += 0.00000001908 * Math.cos(5.61152019917 + 20809.7114421287 * t);
-        X0 += 0.00000002093 * Math.cos(0.69713061337 + 522.8212355773 * t);
-        X0 += 0.00000001753 * Math.cos(0.39797312506 + 13554.1417903943 * t);
-        X0 += 0.00000002072 * Math.cos(4.26049243578 + 9690.9519456007 * t);
-        X0 += 0.00000001993 * Math.cos(3.55209979851 + 10404.48999483909 * t);
-        X0 += 0.00000002160 * Math.cos(3.04497475534 + 33018.7772947211 * t);
-        X0 += 0.00000001962 * Math.cos(5.23488234630 + 10736.1067817883 * t);
-        X0 += 0.00000001484 * Math.cos(2.74179945598 + 3723.26514143949 * t);
-        X0 += 0.00000001997 * Math.cos(0.06145988645 + 18875.2820522905 * t);
-        X0 += 0.00000002057 * Math.cos(1.98619862343 + 102.84895673509 * t);
-        X0 += 0.00000002016 * Math.cos(0.55406656183 + 37724.9972372317 * t);
-        X0 += 0.00000001618 * Math.cos(4.87669871338 + 7085.1405985987 * t);
-        X0 += 0.00000001659 * Math.cos(1.57309690432 + 20235.36664379391 * t);
-        X0 += 0.00000001553 * Math.cos(1.42749385034 + 14945.5599910379 * t);
-        X0 += 0.00000001873 * Math.cos(1.50254912801 + 30213.5022652405 * t);
-        X0 += 0.00000001542 * Math.cos(4.02240332746 + 6490.0204047715 * t);
-        X0 += 0.00000001360 * Math.cos(5.79998899684 + 10233.1991245943 * t);
-        X0 += 0.00000001360 * Math.cos(3.69389705053 + 10193.85960279471 * t);
-        X0 += 0.00000001592 * Math.cos(0.72118861666 + 10138.7477651272 * t);
-        X0 += 0.00000001592 * Math.cos(2.48951212353 + 10288.3109622618 * t);
-        X0 += 0.00000001368 * Math.cos(2.85917999065 + 18875.76968725751 * t);
-        X0 += 0.00000001235 * Math.cos(3.79205714927 + 20.5315780089 * t);
-        X0 += 0.00000001485 * Math.cos(4.99009504257 + 9160.77334553909 * t);
-        X0 += 0.00000001516 * Math.cos(2.06896537087 + 9146.54625153749 * t);
-        X0 += 0.00000001233 * Math.cos(0.18739466393 + 18073.46112116669 * t);
-        X0 += 0.00000001560 * Math.cos(0.36404331783 + 9897.1374940379 * t);
-        X0 += 0.00000001560 * Math.cos(2.84665742236 + 10529.9212333511 * t);
-        X0 += 0.00000001179 * Math.cos(6.01432548499 + 14919.2616712381 * t);
-        X0 += 0.00000001213 * Math.cos(1.30457787805 + 28521.3365957381 * t);
-        X0 += 0.00000001182 * Math.cos(5.63437933479 + 9794.0447198193 * t);
-        X0 += 0.00000001402 * Math.cos(4.53367387536 + 8661.9965060795 * t);
-        X0 += 0.00000001158 * Math.cos(3.85902457723 + 10633.0140075697 * t);
-        X0 += 0.00000001257 * Math.cos(4.23637984727 + 2378.9206560881 * t);
-        X0 += 0.00000001089 * Math.cos(2.26544798668 + 30639.61282114949 * t);
-        X0 += 0.00000001402 * Math.cos(5.00395460415 + 10640.1275545705 * t);
-        X0 += 0.00000001483 * Math.cos(5.56946826365 + 21535.70582703189 * t);
-        X0 += 0.00000001079 * Math.cos(4.38415798738 + 775.2787938405 * t);
-        X0 += 0.00000001370 * Math.cos(4.61207624622 + 9786.9311728185 * t);
-        X0 += 0.00000001064 * Math.cos(5.60167497040 + 16984.2399649401 * t);
-        X0 += 0.00000001158 * Math.cos(4.33523311867 + 3929.96587873609 * t);
-        X0 += 0.00000000967 * Math.cos(1.59661459457 + 640.1411037975 * t);
-        X0 += 0.00000000995 * Math.cos(1.12539751877 + 8662.48414104651 * t);
-        X0 += 0.00000001305 * Math.cos(4.46692235351 + 36948.9869909407 * t);
-        X0 += 0.00000001191 * Math.cos(4.52742138803 + 39264.3131070437 * t);
-        X0 += 0.00000001010 * Math.cos(1.09565332862 + 10007.3438152573 * t);
-        X0 += 0.00000001010 * Math.cos(2.11504740292 + 10419.7149121317 * t);
-        X0 += 0.00000000950 * Math.cos(4.36909872600 + 1109.6223695769 * t);
-        X0 += 0.00000001221 * Math.cos(5.50189153252 + 75.0254160508 * t);
-        X0 += 0.00000000987 * Math.cos(5.46991186463 + 13937.0383226175 * t);
-        X0 += 0.00000001164 * Math.cos(1.47388964891 + 22805.4917485101 * t);
-        X0 += 0.00000000845 * Math.cos(4.27255310755 + 6770.46678376209 * t);
-        X0 += 0.00000000996 * Math.cos(4.53838005508 + 13341.9181287903 * t);
-        X0 += 0.00000001123 * Math.cos(1.83377276818 + 246.0754637129 * t);
-        X0 += 0.00000001139 * Math.cos(2.43198497783 + 2119.00767786191 * t);
-        X0 += 0.00000001046 * Math.cos(0.31602811545 + 31441.92138724031 * t);
-        X0 += 0.00000000879 * Math.cos(3.85735462170 + 15720.5949673949 * t);
-        X0 += 0.00000000761 * Math.cos(4.01867784780 + 7564.58690325449 * t);
-        X0 += 0.00000000814 * Math.cos(6.07006670549 + 9676.7248515991 * t);
-        X0 += 0.00000000786 * Math.cos(2.08315748724 + 11764.5745863425 * t);
-        X0 += 0.00000000883 * Math.cos(0.01404050923 + 25158.8455372489 * t);
-        X0 += 0.00000000795 * Math.cos(3.42432291896 + 10750.33387578991 * t);
-        X0 += 0.00000000770 * Math.cos(0.68478801852 + 7834.3648901229 * t);
-        X0 += 0.00000000825 * Math.cos(2.06778751923 + 191.6920835951 * t);
-        X0 += 0.00000000696 * Math.cos(3.39721023806 + 36147.6536947839 * t);
-        X0 += 0.00000000941 * Math.cos(3.99222118800 + 28520.84896077109 * t);
-        X0 += 0.00000000787 * Math.cos(5.89002484288 + 19890.0103978101 * t);
-        X0 += 0.00000000788 * Math.cos(0.18085455233 + 7994.77225950771 * t);
-        X0 += 0.00000000624 * Math.cos(2.84762425105 + 39794.0040721383 * t);
-        X0 += 0.00000000609 * Math.cos(2.15716574588 + 8624.45646841071 * t);
-        X0 += 0.00000000836 * Math.cos(1.97255748877 + 41655.2069334513 * t);
-        X0 += 0.00000000744 * Math.cos(2.51526655235 + 19904.2374918117 * t);
-        X0 += 0.00000000689 * Math.cos(4.60442929527 + 1066.7392946735 * t);
-        X0 += 0.00000000803 * Math.cos(5.88878266978 + 40879.1966871603 * t);
-        X0 += 0.00000000692 * Math.cos(0.54636447385 + 6770.9544187291 * t);
-        X0 += 0.00000000585 * Math.cos(5.02593807559 + 14143.2514249471 * t);
-        X0 += 0.00000000678 * Math.cos(5.96525738921 + 12592.2062022991 * t);
-        X0 += 0.00000000573 * Math.cos(2.52291476260 + 12592.6938372661 * t);
-        X0 += 0.00000000670 * Math.cos(0.92908106036 + 10239.3400485273 * t);
-        X0 += 0.00000000655 * Math.cos(4.98008645111 + 19366.94534474929 * t);
-        X0 += 0.00000000626 * Math.cos(1.17708461387 + 52176.0501006319 * t);
-        X0 += 0.00000000548 * Math.cos(0.67624288629 + 17777.87244946549 * t);
-        X0 += 0.00000000709 * Math.cos(2.90326183951 + 26735.7014447297 * t);
-        X0 += 0.00000000531 * Math.cos(3.09187361677 + 110.45013870291 * t);
-        X0 += 0.00000000605 * Math.cos(4.63445748441 + 10059.7505532097 * t);
-        X0 += 0.00000000676 * Math.cos(5.20222552429 + 20529.9076841241 * t);
-        X0 += 0.00000000598 * Math.cos(3.03085156721 + 12432.2864678813 * t);
-        X0 += 0.00000000593 * Math.cos(4.85950569906 + 10367.3081741793 * t);
-        X0 += 0.00000000663 * Math.cos(0.05389382712 + 1162.7185218913 * t);
-        X0 += 0.00000000466 * Math.cos(5.52080701144 + 8631.0823804445 * t);
-        X0 += 0.00000000468 * Math.cos(3.02762841033 + 16983.75232997309 * t);
-        X0 += 0.00000000454 * Math.cos(0.79241866785 + 10042.8564930753 * t);
-        X0 += 0.00000000462 * Math.cos(5.82955181248 + 6.86972951729 * t);
-        X0 += 0.00000000444 * Math.cos(2.41828213333 + 10384.2022343137 * t);
-        X0 += 0.00000000460 * Math.cos(0.69082886296 + 11802.6022589783 * t);
-        X0 += 0.00000000436 * Math.cos(1.85693465963 + 9639.18456535971 * t);
-        X0 += 0.00000000565 * Math.cos(5.70677906646 + 8520.87605922509 * t);
-        X0 += 0.00000000416 * Math.cos(1.72605691131 + 10225.2587165305 * t);
-        X0 += 0.00000000416 * Math.cos(1.48464382888 + 10201.80001085851 * t);
-        X0 += 0.00000000414 * Math.cos(3.17556892991 + 10186.7434089277 * t);
-        X0 += 0.00000000431 * Math.cos(1.73079752624 + 8616.85528644289 * t);
-        X0 += 0.00000000393 * Math.cos(2.42848511919 + 3532.3045102949 * t);
-        X0 += 0.00000000406 * Math.cos(1.35364773044 + 10787.8741620293 * t);
-        X0 += 0.00000000380 * Math.cos(0.22739133734 + 19317.43635781211 * t);
-        X0 += 0.00000000458 * Math.cos(1.71416676029 + 2218.51328670329 * t);
-        X0 += 0.00000000433 * Math.cos(5.30346380915 + 19650.8046636145 * t);
-        X0 += 0.00000000377 * Math.cos(5.67314793766 + 149.8070146181 * t);
-        X0 += 0.00000000390 * Math.cos(0.06912441711 + 13936.5506876505 * t);
-        X0 += 0.00000000360 * Math.cos(5.95509031178 + 24150.3238688285 * t);
-        X0 += 0.00000000359 * Math.cos(4.26088296989 + 30831.5487222281 * t);
-        X0 += 0.00000000501 * Math.cos(1.02737770483 + 44809.4063833799 * t);
-        X0 += 0.00000000409 * Math.cos(1.77188267484 + 27197.03787618409 * t);
-        X0 += 0.00000000354 * Math.cos(2.84306437211 + 10323.7356849139 * t);
-        X0 += 0.00000000354 * Math.cos(0.36763636808 + 10103.3230424751 * t);
-        X0 += 0.00000000428 * Math.cos(2.67107743725 + 13656.10430865991 * t);
-        X0 += 0.00000000467 * Math.cos(5.30307476925 + 38.3768531213 * t);
-        X0 += 0.00000000343 * Math.cos(1.61330776142 + 19786.9176235915 * t);
-        X0 += 0.00000000457 * Math.cos(0.79025821347 + 18308.0510495271 * t);
-        X0 += 0.00000000399 * Math.cos(0.98531427210 + 1052.51220067191 * t);
-        X0 += 0.00000000445 * Math.cos(4.32811724206 + 30665.9111409493 * t);
-        X0 += 0.00000000344 * Math.cos(0.03854207192 + 27490.9362955283 * t);
-        X0 += 0.00000000315 * Math.cos(0.01870495544 + 20640.1140053435 * t);
-        X0 += 0.00000000399 * Math.cos(4.24912842655 + 10212.0448909862 * t);
-        X0 += 0.00000000399 * Math.cos(5.24475762082 + 10215.0138364028 * t);
-        X0 += 0.00000000390 * Math.cos(2.28211006759 + 30000.2031698025 * t);
-        X0 += 0.00000000340 * Math.cos(1.17434519565 + 22805.9793834771 * t);
-        X0 += 0.00000000398 * Math.cos(3.64836715501 + 9836.1557557787 * t);
-        X0 += 0.00000000311 * Math.cos(4.76207516886 + 22003.6708173863 * t);
-        X0 += 0.00000000404 * Math.cos(3.98593080978 + 20352.0333113382 * t);
-        X0 += 0.00000000366 * Math.cos(1.12867710261 + 16522.4158985187 * t);
-        X0 += 0.00000000350 * Math.cos(2.99077020749 + 15874.37377787969 * t);
-        X0 += 0.00000000385 * Math.cos(1.36867906917 + 20180.9832636761 * t);
-        X0 += 0.00000000379 * Math.cos(5.84551902141 + 10590.9029716103 * t);
-        X0 += 0.00000000395 * Math.cos(0.41318733253 + 17277.16311435029 * t);
-        X0 += 0.00000000383 * Math.cos(1.78033504479 + 35372.1310834599 * t);
-        X0 += 0.00000000277 * Math.cos(3.16062357954 + 10988.5643400515 * t);
-        X0 += 0.00000000365 * Math.cos(1.42467845102 + 10349.1546887045 * t);
-        X0 += 0.00000000365 * Math.cos(1.78602228917 + 10077.90403868451 * t);
-        X0 += 0.00000000336 * Math.cos(0.74013259732 + 220.6564599223 * t);
-        X0 += 0.00000000313 * Math.cos(5.66612603850 + 6309.1303523077 * t);
-        X0 += 0.00000000276 * Math.cos(5.59087067643 + 26709.8907598969 * t);
-        X0 += 0.00000000283 * Math.cos(5.53432657905 + 3904.1551939033 * t);
-        X0 += 0.00000000271 * Math.cos(3.85648651665 + 9745.5643733401 * t);
-        X0 += 0.00000000321 * Math.cos(4.20436094748 + 38734.6221419491 * t);
-        X0 += 0.00000000327 * Math.cos(6.11821528186 + 9359.84534697549 * t);
-        X0 += 0.00000000264 * Math.cos(5.16095616548 + 76.50988875911 * t);
-        X0 += 0.00000000310 * Math.cos(3.61551590451 + 27991.15799567649 * t);
-        X0 += 0.00000000359 * Math.cos(3.38306212619 + 45585.4166296709 * t);
-        X0 += 0.00000000326 * Math.cos(5.59092073268 + 633.0275567967 * t);
-        X0 += 0.00000000314 * Math.cos(1.40080599663 + 20406.0395144131 * t);
-        X0 += 0.00000000306 * Math.cos(1.12609450630 + 2957.9597119601 * t);
-        X0 += 0.00000000266 * Math.cos(4.09083877114 + 8635.69818627969 * t);
-        X0 += 0.00000000254 * Math.cos(5.63745242067 + 10681.49435404891 * t);
-        X0 += 0.00000000343 * Math.cos(4.64295996667 + 8106.4948561521 * t);
-        X0 += 0.00000000300 * Math.cos(4.12771906867 + 206.42936592071 * t);
-        X0 += 0.00000000250 * Math.cos(3.04073965857 + 283.6155013817 * t);
-        X0 += 0.00000000336 * Math.cos(0.68541596989 + 23581.0143598341 * t);
-        X0 += 0.00000000236 * Math.cos(5.97871163742 + 10595.9382609507 * t);
-        X0 += 0.00000000234 * Math.cos(3.82015244691 + 19624.9939787817 * t);
-        X0 += 0.00000000255 * Math.cos(2.78388035745 + 213.0552779545 * t);
-        X0 += 0.00000000281 * Math.cos(0.78332195796 + 9399.9790797347 * t);
-        X0 += 0.00000000314 * Math.cos(0.56852266937 + 19786.42998862449 * t);
-        X0 += 0.00000000229 * Math.cos(4.91536328985 + 574.10098085129 * t);
-        X0 += 0.00000000295 * Math.cos(3.93680452053 + 31749.4790082099 * t);
-        X0 += 0.00000000316 * Math.cos(2.45044363511 + 48739.6160795995 * t);
-        X0 += 0.00000000229 * Math.cos(4.45667675327 + 949.4194264533 * t);
-        X0 += 0.00000000229 * Math.cos(6.25019131093 + 19896.63630984389 * t);
-        X0 += 0.00000000257 * Math.cos(4.89479846572 + 19360.3194327155 * t);
-        X0 += 0.00000000231 * Math.cos(4.38656769900 + 9264.35375472471 * t);
-        X0 += 0.00000000255 * Math.cos(4.03464641753 + 9993.1167212557 * t);
-        X0 += 0.00000000255 * Math.cos(5.45923962984 + 10433.9420061333 * t);
-        X0 += 0.00000000291 * Math.cos(0.75030918802 + 9999.7426332895 * t);
-        X0 += 0.00000000285 * Math.cos(5.75179047399 + 34596.1208371689 * t);
-        X0 += 0.00000000211 * Math.cos(0.18276464350 + 10249.55723037191 * t);
-        X0 += 0.00000000211 * Math.cos(3.02793609669 + 10177.5014970171 * t);
-        X0 += 0.00000000255 * Math.cos(2.42745847719 + 11027.07964765431 * t);
-        X0 += 0.00000000220 * Math.cos(0.56223178729 + 37.7838551523 * t);
-        X0 += 0.00000000280 * Math.cos(0.52583614761 + 37410.32342239509 * t);
-        X0 += 0.00000000258 * Math.cos(5.27008173054 + 29573.6049789265 * t);
-        X0 += 0.00000000247 * Math.cos(1.90810058449 + 29587.8320729281 * t);
-        X0 += 0.00000000206 * Math.cos(3.37472645930 + 30426.8013606785 * t);
-        X0 += 0.00000000263 * Math.cos(3.16130275876 + 20433.9284569063 * t);
-        X0 += 0.00000000212 * Math.cos(3.16045353079 + 10206.9008047945 * t);
-        X0 += 0.00000000212 * Math.cos(0.05024720940 + 10220.15792259451 * t);
-        X0 += 0.00000000202 * Math.cos(0.82632204894 + 16894.7542170941 * t);
-        X0 += 0.00000000272 * Math.cos(4.85092349120 + 12320.56387123691 * t);
-        X0 += 0.00000000211 * Math.cos(5.11529334983 + 11162.7049726643 * t);
-        X0 += 0.00000000197 * Math.cos(1.28459142755 + 8734.17515466309 * t);
-        X0 += 0.00000000267 * Math.cos(4.30013889854 + 377.6174253993 * t);
-        X0 += 0.00000000224 * Math.cos(3.35322427637 + 9051.05465928671 * t);
-        X0 += 0.00000000186 * Math.cos(4.53704574212 + 10251.6623993323 * t);
-        X0 += 0.00000000186 * Math.cos(4.95684030525 + 10175.3963280567 * t);
-        X0 += 0.00000000258 * Math.cos(2.52339474378 + 9864.60494324651 * t);
-        X0 += 0.00000000186 * Math.cos(4.77906943206 + 40077.8633910035 * t);
-        X0 += 0.00000000233 * Math.cos(1.49242697658 + 29089.0552334685 * t);
-        X0 += 0.00000000186 * Math.cos(4.86984152157 + 17272.1278250099 * t);
-        X0 += 0.00000000254 * Math.cos(3.15931132763 + 19264.3402054977 * t);
-        X0 += 0.00000000246 * Math.cos(0.68740453037 + 10562.4537841425 * t);
-        X0 += 0.00000000211 * Math.cos(6.16254771086 + 11376.0040681023 * t);
-        X0 += 0.00000000178 * Math.cos(0.50910605505 + 10949.4058772263 * t);
-        X0 += 0.00000000178 * Math.cos(2.70159468514 + 9477.65285016271 * t);
-        X0 += 0.00000000197 * Math.cos(0.95969377699 + 1692.40948698591 * t);
-        X0 += 0.00000000177 * Math.cos(0.12290786955 + 20316.6085886861 * t);
-        X0 += 0.00000000216 * Math.cos(2.56868513559 + 20452.6255947383 * t);
-        X0 += 0.00000000197 * Math.cos(0.19093764884 + 9050.56702431969 * t);
-        X0 += 0.00000000159 * Math.cos(1.16783306054 + 27197.5255111511 * t);
-        X0 += 0.00000000167 * Math.cos(5.81167464279 + 4705.4884900601 * t);
-        X0 += 0.00000000213 * Math.cos(2.13389038075 + 27511.2240560537 * t);
-        X0 += 0.00000000154 * Math.cos(0.72358681867 + 10199.3022696929 * t);
-        X0 += 0.00000000154 * Math.cos(2.48711392152 + 10227.7564576961 * t);
-        X0 += 0.00000000174 * Math.cos(1.89882712841 + 14.47091148511 * t);
-        X0 += 0.00000000209 * Math.cos(1.65966829596 + 10063.4785315929 * t);
-        X0 += 0.00000000167 * Math.cos(3.57558694059 + 6872.42930202769 * t);
-        X0 += 0.00000000185 * Math.cos(0.68349269134 + 9256.75257275689 * t);
-        X0 += 0.00000000166 * Math.cos(3.75162140471 + 10263.2863891663 * t);
-        X0 += 0.00000000166 * Math.cos(5.74226464266 + 10163.7723382227 * t);
-        X0 += 0.00000000168 * Math.cos(5.33662556430 + 7991.18509413049 * t);
-        X0 += 0.00000000174 * Math.cos(3.76838134579 + 9161.2609805061 * t);
-        X0 += 0.00000000197 * Math.cos(3.44221896080 + 846.3266522347 * t);
-        X0 += 0.00000000176 * Math.cos(4.69215492733 + 9779.32999085069 * t);
-        X0 += 0.00000000198 * Math.cos(3.88553571350 + 52669.8257758191 * t);
-        X0 += 0.00000000169 * Math.cos(5.71918201676 + 11265.7977468829 * t);
-        X0 += 0.00000000188 * Math.cos(0.90560199287 + 38526.3305333885 * t);
-        X0 += 0.00000000140 * Math.cos(0.96666880637 + 27991.6456306435 * t);
-        X0 += 0.00000000194 * Math.cos(2.26842216085 + 8837.26792888169 * t);
-        X0 += 0.00000000173 * Math.cos(1.30662690057 + 9793.5570848523 * t);
-        X0 += 0.00000000140 * Math.cos(0.33029139370 + 10191.6785343681 * t);
-        X0 += 0.00000000140 * Math.cos(2.88040934649 + 10235.3801930209 * t);
-        X0 += 0.00000000196 * Math.cos(2.27385726594 + 1293.24040609909 * t);
-        X0 += 0.00000000180 * Math.cos(4.38252963041 + 10021.5934626159 * t);
-        X0 += 0.00000000138 * Math.cos(0.38495137130 + 10217.4615169576 * t);
-        X0 += 0.00000000138 * Math.cos(2.82574936889 + 10209.5972104314 * t);
-        X0 += 0.00000000148 * Math.cos(2.31505492408 + 19374.5465267171 * t);
-        X0 += 0.00000000137 * Math.cos(3.95061609635 + 16522.9035334857 * t);
-        X0 += 0.00000000143 * Math.cos(1.40332876782 + 20447.5903053979 * t);
-        X0 += 0.00000000139 * Math.cos(5.72624016073 + 7255.3258342509 * t);
-        X0 += 0.00000000126 * Math.cos(3.82073811345 + 20277.2517127709 * t);
-        X0 += 0.00000000164 * Math.cos(4.79111675703 + 49515.6263258905 * t);
-        X0 += 0.00000000149 * Math.cos(2.18564631641 + 10135.8555932665 * t);
-        X0 += 0.00000000149 * Math.cos(1.02505442378 + 10291.20313412251 * t);
-        X0 += 0.00000000118 * Math.cos(1.12766998844 + 4551.7096795753 * t);
-        X0 += 0.00000000117 * Math.cos(0.93680170584 + 1582.2031657665 * t);
-        X0 += 0.00000000151 * Math.cos(0.84241735172 + 10246.0619144859 * t);
-        X0 += 0.00000000151 * Math.cos(2.36828338847 + 10180.99681290311 * t);
-        X0 += 0.00000000152 * Math.cos(3.18276216864 + 39302.3407796795 * t);
-        X0 += 0.00000000144 * Math.cos(3.82694942167 + 9986.0532309055 * t);
-        X0 += 0.00000000144 * Math.cos(5.66693662570 + 10441.00549648351 * t);
-        X0 += 0.00000000136 * Math.cos(2.08219853379 + 17469.0990154289 * t);
-        X0 += 0.00000000119 * Math.cos(3.32943340593 + 20809.2238071617 * t);
-        X0 += 0.00000000130 * Math.cos(5.57171941495 + 10236.3045651453 * t);
-        X0 += 0.00000000130 * Math.cos(3.92216663242 + 10190.7541622437 * t);
-        X0 += 0.00000000156 * Math.cos(4.19081128787 + 20388.6818742677 * t);
-        X0 += 0.00000000132 * Math.cos(2.35919234539 + 9580.2579894143 * t);
-        X0 += 0.00000000155 * Math.cos(0.85940280671 + 8238.0368178385 * t);
-        X0 += 0.00000000142 * Math.cos(3.58430646945 + 31441.4337522733 * t);
-        X0 += 0.00000000131 * Math.cos(5.39629404064 + 8101.39141534989 * t);
-        X0 += 0.00000000133 * Math.cos(4.00547577050 + 24382.8352909579 * t);
-        X0 += 0.00000000105 * Math.cos(4.23077158650 + 32858.36992533629 * t);
-        X0 += 0.00000000105 * Math.cos(3.82110715168 + 1059.1381127057 * t);
-        X0 += 0.00000000101 * Math.cos(4.35357648238 + 24978.7684069643 * t);
-        X0 += 0.00000000126 * Math.cos(4.90495452705 + 22645.57201409229 * t);
-        X0 += 0.00000000101 * Math.cos(5.26437713251 + 20043.9183776823 * t);
-        X0 += 0.00000000110 * Math.cos(2.97625385917 + 43071.65547154729 * t);
-        X0 += 0.00000000103 * Math.cos(0.46440823619 + 12431.79883291429 * t);
-        X0 += 0.00000000136 * Math.cos(6.07687689635 + 5999.4603486097 * t);
-        X0 += 0.00000000097 * Math.cos(0.92055841324 + 853.4401992355 * t);
-        X0 += 0.00000000130 * Math.cos(3.21780638112 + 4176.2851599325 * t);
-        X0 += 0.00000000113 * Math.cos(3.93650904588 + 19794.0311705923 * t);
-        X0 += 0.00000000093 * Math.cos(5.48927852030 + 22645.08437912529 * t);
-        X0 += 0.00000000124 * Math.cos(2.32988224429 + 42456.5402296081 * t);
-        X0 += 0.00000000107 * Math.cos(4.30116108617 + 3.6883357796 * t);
-        X0 += 0.00000000127 * Math.cos(3.54954178661 + 284.1031363487 * t);
-        X0 += 0.00000000112 * Math.cos(2.47056814408 + 20206.4022674667 * t);
-        X0 += 0.00000000097 * Math.cos(4.21617446768 + 78263.95324220609 * t);
-        X0 += 0.00000000093 * Math.cos(0.23349714961 + 8204.4841895685 * t);
-        X0 += 0.00000000127 * Math.cos(5.30922609526 + 56600.0354720387 * t);
-        X0 += 0.00000000111 * Math.cos(4.68533396525 + 18830.14083265389 * t);
-        X0 += 0.00000000098 * Math.cos(3.12531862236 + 11059.6121984457 * t);
-        X0 += 0.00000000098 * Math.cos(0.08567718624 + 9367.4465289433 * t);
-        X0 += 0.00000000103 * Math.cos(5.15240336002 + 10244.4434893295 * t);
-        X0 += 0.00000000103 * Math.cos(4.34148268734 + 10182.6152380595 * t);
-        X0 += 0.00000000111 * Math.cos(1.30087873837 + 18844.36792665549 * t);
-        X0 += 0.00000000125 * Math.cos(2.35130115448 + 12189.0219095505 * t);
-        X0 += 0.00000000088 * Math.cos(4.33292988106 + 20350.5488386299 * t);
-        X0 += 0.00000000088 * Math.cos(2.43603338900 + 29058.1411078335 * t);
-        X0 += 0.00000000096 * Math.cos(3.91338437973 + 2333.44021035551 * t);
-        X0 += 0.00000000122 * Math.cos(5.43206767869 + 2636.9692901205 * t);
-        X0 += 0.00000000087 * Math.cos(1.36103886488 + 8087.1643213483 * t);
-        X0 += 0.00000000086 * Math.cos(3.64796343622 + 7034.8959381599 * t);
-        X0 += 0.00000000095 * Math.cos(2.03086124785 + 10202.4836634306 * t);
-        X0 += 0.00000000095 * Math.cos(1.17983949234 + 10224.5750639584 * t);
-        X0 += 0.00000000084 * Math.cos(1.22799614537 + 10401.4545114571 * t);
-        X0 += 0.00000000084 * Math.cos(1.98270459482 + 10025.6042159319 * t);
-        X0 += 0.00000000085 * Math.cos(5.03727591626 + 19477.6393009357 * t);
-        X0 += 0.00000000086 * Math.cos(4.48909813316 + 29864.0902098255 * t);
-        X0 += 0.00000000099 * Math.cos(2.80223352440 + 2648.6986429565 * t);
-        X0 += 0.00000000082 * Math.cos(1.04973324929 + 802.0647486073 * t);
-        X0 += 0.00000000087 * Math.cos(0.60735009545 + 13745.10242153889 * t);
-        X0 += 0.00000000081 * Math.cos(0.59637598254 + 1550.8014051645 * t);
-        X0 += 0.00000000083 * Math.cos(3.04079971271 + 25933.8805136059 * t);
-        X0 += 0.00000000079 * Math.cos(6.14325401892 + 44008.0730872231 * t);
-        X0 += 0.00000000078 * Math.cos(6.11312046046 + 9573.6320773805 * t);
-        X0 += 0.00000000098 * Math.cos(5.37191506696 + 20220.6293614683 * t);
-        X0 += 0.00000000108 * Math.cos(3.66133732652 + 24149.8362338615 * t);
-        X0 += 0.00000000100 * Math.cos(5.07064547333 + 1596.43025976811 * t);
-        X0 += 0.00000000095 * Math.cos(3.35135945156 + 29477.6257517087 * t);
-        X0 += 0.00000000078 * Math.cos(3.03881688108 + 205.9417309537 * t);
-        X0 += 0.00000000096 * Math.cos(1.62154425800 + 30206.38871823969 * t);
-        X0 += 0.00000000079 * Math.cos(4.07943333749 + 3340.36860921629 * t);
-        X0 += 0.00000000095 * Math.cos(4.51771749335 + 30220.6158122413 * t);
-        X0 += 0.00000000082 * Math.cos(4.95983920368 + 29043.91401383189 * t);
-        X0 += 0.00000000077 * Math.cos(2.97497430839 + 17468.6113804619 * t);
-        X0 += 0.00000000100 * Math.cos(4.43773436133 + 38500.5198485557 * t);
-        X0 += 0.00000000107 * Math.cos(4.65407793574 + 2069.2506523901 * t);
-        X0 += 0.00000000077 * Math.cos(3.58586905737 + 10853.4266500085 * t);
-        X0 += 0.00000000087 * Math.cos(4.37137980512 + 5.2791068239 * t);
-        X0 += 0.00000000076 * Math.cos(4.87466102622 + 10243.35080184331 * t);
-        X0 += 0.00000000076 * Math.cos(4.61922502115 + 10183.7079255457 * t);
-        X0 += 0.00000000076 * Math.cos(6.08417794379 + 956.53297345411 * t);
-        X0 += 0.00000000100 * Math.cos(2.63929709585 + 28947.9347866141 * t);
-        X0 += 0.00000000096 * Math.cos(4.86017307249 + 35371.6434484929 * t);
-        X0 += 0.00000000073 * Math.cos(0.32640489167 + 17248.18148437089 * t);
-        X0 += 0.00000000073 * Math.cos(1.84890257629 + 21001.1597082403 * t);
-        X0 += 0.00000000081 * Math.cos(2.26124411922 + 18734.6492404031 * t);
-        X0 += 0.00000000076 * Math.cos(5.51994215698 + 103.3365917021 * t);
-        X0 += 0.00000000085 * Math.cos(5.27676110314 + 3914.71340755109 * t);
-        X0 += 0.00000000074 * Math.cos(1.92420691865 + 8827.6340873583 * t);
-        X0 += 0.00000000070 * Math.cos(1.49155151362 + 6298.57213865991 * t);
-        X0 += 0.00000000087 * Math.cos(2.91040927813 + 33019.2649296881 * t);
-        X0 += 0.00000000071 * Math.cos(3.95908921272 + 34172.1611489279 * t);
-        X0 += 0.00000000079 * Math.cos(2.65919074354 + 10018.5579792339 * t);
-        X0 += 0.00000000079 * Math.cos(0.55150999665 + 10408.5007481551 * t);
-        X0 += 0.00000000069 * Math.cos(6.05632855781 + 33794.2999060451 * t);
-        X0 += 0.00000000087 * Math.cos(1.54753819207 + 29050.53992586569 * t);
-        X0 += 0.00000000069 * Math.cos(0.90459565864 + 41044.8342684391 * t);
-        X0 += 0.00000000069 * Math.cos(2.25427054035 + 9644.7074896671 * t);
-        X0 += 0.00000000069 * Math.cos(0.95643019984 + 10782.3512377219 * t);
-        X0 += 0.00000000087 * Math.cos(5.46685094593 + 28313.0449871775 * t);
-        X0 += 0.00000000085 * Math.cos(3.77767527899 + 46386.7499258277 * t);
-        X0 += 0.00000000083 * Math.cos(5.79338403589 + 9721.86607123571 * t);
-        X0 += 0.00000000083 * Math.cos(3.70050201148 + 10705.1926561533 * t);
-        X0 += 0.00000000090 * Math.cos(5.18770728347 + 20049.4413019897 * t);
-        X0 += 0.00000000064 * Math.cos(5.86320987239 + 9147.03388650451 * t);
-        X0 += 0.00000000076 * Math.cos(1.05201656383 + 21486.1968400947 * t);
-        X0 += 0.00000000085 * Math.cos(1.34427023572 + 19573.13089318649 * t);
-        X0 += 0.00000000063 * Math.cos(1.61314796366 + 18314.67696156089 * t);
-        X0 += 0.00000000071 * Math.cos(6.14562384557 + 1573.57660661529 * t);
-        X0 += 0.00000000070 * Math.cos(5.46351961493 + 1580.6228433133 * t);
-        X0 += 0.00000000080 * Math.cos(6.26741884849 + 39301.8531447125 * t);
-        X0 += 0.00000000067 * Math.cos(0.48701132675 + 3956.2641985359 * t);
-        X0 += 0.00000000087 * Math.cos(5.47908021981 + 29264.3266562707 * t);
-        X0 += 0.00000000063 * Math.cos(3.37584641365 + 27461.46703058189 * t);
-        X0 += 0.00000000070 * Math.cos(5.75487124049 + 1479.11039154791 * t);
-        X0 += 0.00000000081 * Math.cos(0.05555806146 + 10205.92818172669 * t);
-        X0 += 0.00000000080 * Math.cos(0.23956461858 + 38204.44354188749 * t);
-        X0 += 0.00000000060 * Math.cos(1.34871003737 + 20421.2919855981 * t);
-        X0 += 0.00000000064 * Math.cos(4.30292059849 + 18300.44986755929 * t);
-        X0 += 0.00000000076 * Math.cos(3.93986568359 + 29683.81130014589 * t);
-        X0 += 0.00000000082 * Math.cos(0.44981983060 + 60530.2451682583 * t);
-        X0 += 0.00000000077 * Math.cos(6.19200892946 + 53445.8360221101 * t);
-        X0 += 0.00000000062 * Math.cos(1.28649446141 + 11599.4246400307 * t);
-        X0 += 0.00000000058 * Math.cos(3.08211963404 + 7576.8038910575 * t);
-        X0 += 0.00000000057 * Math.cos(3.67915137516 + 11280.0248408845 * t);
-        X0 += 0.00000000059 * Math.cos(1.26040809465 + 10255.0801546793 * t);
-        X0 += 0.00000000059 * Math.cos(1.95029264554 + 10171.9785727097 * t);
-        X0 += 0.00000000057 * Math.cos(4.06263183264 + 20464.84258254131 * t);
-        X0 += 0.00000000079 * Math.cos(1.97866126955 + 10136.7756574519 * t);
-        X0 += 0.00000000066 * Math.cos(2.33925448441 + 14169.5497447469 * t);
-        X0 += 0.00000000063 * Math.cos(3.68749019288 + 18099.7594409665 * t);
-        X0 += 0.00000000060 * Math.cos(3.19857198519 + 29786.9040743645 * t);
-        X0 += 0.00000000064 * Math.cos(5.57155183718 + 30007.3167168033 * t);
-        X0 += 0.00000000054 * Math.cos(3.67263578488 + 30666.3987759163 * t);
-        X0 += 0.00000000058 * Math.cos(3.05733553465 + 75449.7506569799 * t);
-        X0 += 0.00000000073 * Math.cos(3.85067322628 + 51449.5680807617 * t);
-        X0 += 0.00000000074 * Math.cos(5.48458129044 + 21720.2991334881 * t);
-        X0 += 0.00000000063 * Math.cos(2.67652037589 + 26736.1890796967 * t);
-        X0 += 0.00000000054 * Math.cos(3.91509939932 + 38204.9311768545 * t);
-        X0 += 0.00000000072 * Math.cos(4.47140350205 + 100608.3523767453 * t);
-        X0 += 0.00000000053 * Math.cos(3.80804701502 + 419.72846135871 * t);
-        X0 += 0.00000000052 * Math.cos(2.09262980178 + 40426.7878114515 * t);
-        X0 += 0.00000000052 * Math.cos(5.73445119519 + 29580.23089096029 * t);
-        X0 += 0.00000000053 * Math.cos(1.24051301926 + 419.2408263917 * t);
-        X0 += 0.00000000058 * Math.cos(1.31187367842 + 20412.5878159039 * t);
-        X0 += 0.00000000054 * Math.cos(3.26242420831 + 9366.9588939763 * t);
-        X0 += 0.00000000055 * Math.cos(3.59360279993 + 9103.6631766341 * t);
-        X0 += 0.00000000050 * Math.cos(2.37895606630 + 34570.3101523361 * t);
-        X0 += 0.00000000067 * Math.cos(2.64494428691 + 632.5399218297 * t);
-        X0 += 0.00000000050 * Math.cos(1.18004520961 + 37724.5096022647 * t);
-        X0 += 0.00000000069 * Math.cos(1.73296667148 + 53284.94101775829 * t);
-        X0 += 0.00000000057 * Math.cos(1.89823008385 + 8307.5769637871 * t);
-        X0 += 0.00000000050 * Math.cos(4.69860484886 + 8417.7832850065 * t);
-        X0 += 0.00000000049 * Math.cos(1.91804881602 + 26087.65932409069 * t);
-        X0 += 0.00000000064 * Math.cos(2.02816930105 + 7064.3652031063 * t);
-        X0 += 0.00000000049 * Math.cos(1.71661686491 + 14128.4865887291 * t);
-        X0 += 0.00000000056 * Math.cos(2.23445542422 + 28418.2438215195 * t);
-        X0 += 0.00000000066 * Math.cos(6.05166710265 + 19580.7320751543 * t);
-        X0 += 0.00000000047 * Math.cos(2.93855195986 + 10742.73269382209 * t);
-        X0 += 0.00000000061 * Math.cos(1.41947943365 + 43232.0628409321 * t);
-        X0 += 0.00000000061 * Math.cos(4.56107208724 + 43232.5504758991 * t);
-        X0 += 0.00000000047 * Math.cos(4.81852576439 + 38741.7356889499 * t);
-        X0 += 0.00000000050 * Math.cos(1.33989551475 + 59161.1932343711 * t);
-        X0 += 0.00000000046 * Math.cos(2.23137394571 + 18844.8555616225 * t);
-        X0 += 0.00000000054 * Math.cos(0.69428675399 + 48947.9076881601 * t);
-        X0 += 0.00000000046 * Math.cos(4.63842079862 + 3154.9309023791 * t);
-        X0 += 0.00000000046 * Math.cos(4.21170546636 + 194.7275669771 * t);
-        X0 += 0.00000000056 * Math.cos(1.07866938616 + 9936.7835918301 * t);
-        X0 += 0.00000000056 * Math.cos(2.13203135403 + 10490.27513555891 * t);
-        X0 += 0.00000000054 * Math.cos(4.49664827025 + 9922.5564978285 * t);
-        X0 += 0.00000000054 * Math.cos(4.99723777712 + 10504.50222956051 * t);
-        X0 += 0.00000000059 * Math.cos(2.01423634465 + 18204.47064034149 * t);
-        X0 += 0.00000000048 * Math.cos(1.22734670146 + 38727.5085949483 * t);
-        X0 += 0.00000000057 * Math.cos(5.20275648643 + 50316.9596220473 * t);
-        X0 += 0.00000000061 * Math.cos(5.98664723657 + 10140.2322378355 * t);
-        X0 += 0.00000000061 * Math.cos(3.50723881080 + 10286.8264895535 * t);
-        X0 += 0.00000000061 * Math.cos(0.57175194941 + 6567.1789863401 * t);
-        X0 += 0.00000000048 * Math.cos(3.35196537073 + 9246.5584862589 * t);
-        X0 += 0.00000000060 * Math.cos(2.77045228898 + 3684.1342325067 * t);
-        X0 += 0.00000000060 * Math.cos(3.41701763721 + 14427.5983787793 * t);
-        X0 += 0.00000000051 * Math.cos(2.29628619637 + 47623.60896860609 * t);
-        X0 += 0.00000000051 * Math.cos(5.43142352332 + 9566.03089541269 * t);
-        X0 += 0.00000000052 * Math.cos(0.06151623743 + 8727.0616076623 * t);
-        X0 += 0.00000000057 * Math.cos(0.62091438086 + 32243.2546833971 * t);
-        X0 += 0.00000000048 * Math.cos(2.05408316319 + 433.9555553603 * t);
-        X0 += 0.00000000045 * Math.cos(5.52086086974 + 10263.5259855987 * t);
-        X0 += 0.00000000045 * Math.cos(3.97302517763 + 10163.53274179031 * t);
-        X0 += 0.00000000049 * Math.cos(1.65627933457 + 9794.6049647939 * t);
-        X0 += 0.00000000049 * Math.cos(1.55442140562 + 10632.45376259511 * t);
-        X0 += 0.00000000058 * Math.cos(6.19349919374 + 1860.95904382949 * t);
-        X0 += 0.00000000047 * Math.cos(1.50917280490 + 20142.9555910403 * t);
-        X0 += 0.00000000046 * Math.cos(5.38397167897 + 2349.5868529063 * t);
-        X0 += 0.00000000044 * Math.cos(2.04804189558 + 30632.98690911569 * t);
-        X0 += 0.00000000046 * Math.cos(4.70186674108 + 2356.63308960431 * t);
-        X0 += 0.00000000041 * Math.cos(0.12858083101 + 12850.2548363315 * t);
-        X0 += 0.00000000041 * Math.cos(1.71656432171 + 8094.7655033161 * t);
-        X0 += 0.00000000042 * Math.cos(5.08304675769 + 77802.6168107517 * t);
-        X0 += 0.00000000042 * Math.cos(2.81186817738 + 25132.5472174491 * t);
-        X0 += 0.00000000043 * Math.cos(2.37147053321 + 19359.83179774849 * t);
-        X0 += 0.00000000040 * Math.cos(3.89496191683 + 10192.2663332351 * t);
-        X0 += 0.00000000042 * Math.cos(3.28822065771 + 34363.6094150395 * t);
-        X0 += 0.00000000039 * Math.cos(4.35089840905 + 109.9625037359 * t);
-        X0 += 0.00000000044 * Math.cos(4.46863580810 + 79379.96035319949 * t);
-        X0 += 0.00000000043 * Math.cos(4.38742720144 + 38734.13450698209 * t);
-        X0 += 0.00000000046 * Math.cos(0.42463075467 + 17778.3600844325 * t);
-        X0 += 0.00000000039 * Math.cos(6.01839872141 + 12565.9078824993 * t);
-        X0 += 0.00000000041 * Math.cos(0.30408875222 + 27681.89692667289 * t);
-        X0 += 0.00000000053 * Math.cos(1.87369351531 + 64460.4548644779 * t);
-        X0 += 0.00000000039 * Math.cos(3.44426638934 + 28631.5429169575 * t);
-        X0 += 0.00000000052 * Math.cos(5.20963176413 + 38631.5293677305 * t);
-        X0 += 0.00000000043 * Math.cos(6.14192058418 + 11180.5002411301 * t);
-        X0 += 0.00000000039 * Math.cos(1.02239033953 + 1265.81129610991 * t);
-        X0 += 0.00000000039 * Math.cos(3.80918822366 + 7879.84533585549 * t);
-        X0 += 0.00000000039 * Math.cos(0.66759557007 + 7880.3329708225 * t);
-        X0 += 0.00000000052 * Math.cos(1.99450435156 + 1.7282901918 * t);
-        X0 += 0.00000000039 * Math.cos(0.47445196924 + 54981.6287735731 * t);
-        X0 += 0.00000000047 * Math.cos(4.89376316808 + 187.68133027909 * t);
-        X0 += 0.00000000044 * Math.cos(1.17091466926 + 10168.3881440579 * t);
-        X0 += 0.00000000044 * Math.cos(2.03978607093 + 10258.67058333111 * t);
-        X0 += 0.00000000048 * Math.cos(4.68507697395 + 10063.9661665599 * t);
-        X0 += 0.00000000043 * Math.cos(5.12159413101 + 22029.9691371861 * t);
-        X0 += 0.00000000051 * Math.cos(5.89313258670 + 104538.56207296489 * t);
-        X0 += 0.00000000051 * Math.cos(6.27593957045 + 16250.7735674565 * t);
-        X0 += 0.00000000037 * Math.cos(4.48693750961 + 29161.2338820521 * t);
-        X0 += 0.00000000043 * Math.cos(4.92338640427 + 10363.09256082911 * t);
-        X0 += 0.00000000038 * Math.cos(4.13589046896 + 47917.5073879503 * t);
-        X0 += 0.00000000049 * Math.cos(4.56271718314 + 66037.79840692569 * t);
-        X0 += 0.00000000037 * Math.cos(4.41298098667 + 6257.0213476751 * t);
-        X0 += 0.00000000036 * Math.cos(2.97028336578 + 8674.2134938825 * t);
-        X0 += 0.00000000045 * Math.cos(2.00823427492 + 522.3336006103 * t);
-        X0 += 0.00000000049 * Math.cos(1.96278700412 + 491.9071099423 * t);
-        X0 += 0.00000000042 * Math.cos(2.95264046208 + 115674.52048208468 * t);
-        X0 += 0.00000000040 * Math.cos(6.06388400822 + 10233.8171242199 * t);
-        X0 += 0.00000000036 * Math.cos(1.27578830807 + 47938.2827834427 * t);
-        X0 += 0.00000000035 * Math.cos(2.75316747179 + 12546.72575656651 * t);
-        X0 += 0.00000000048 * Math.cos(2.91217379208 + 90395.0668305343 * t);
-        X0 += 0.00000000040 * Math.cos(2.61778472956 + 14127.99895376209 * t);
-        X0 += 0.00000000044 * Math.cos(4.30648713686 + 9698.0654926015 * t);
-        X0 += 0.00000000044 * Math.cos(5.18739891051 + 10728.99323478751 * t);
-        X0 += 0.00000000036 * Math.cos(2.23668112498 + 69942.1974183125 * t);
-        X0 += 0.00000000035 * Math.cos(2.59567778333 + 41654.71929848429 * t);
-        X0 += 0.00000000034 * Math.cos(4.26526324958 + 55798.7021758819 * t);
-        X0 += 0.00000000037 * Math.cos(3.25219443320 + 35192.0539531753 * t);
-        X0 += 0.00000000046 * Math.cos(2.90936826705 + 36301.4325052687 * t);
-        X0 += 0.00000000047 * Math.cos(1.48071490743 + 86464.85713431469 * t);
-        X0 += 0.00000000035 * Math.cos(5.44812994648 + 48732.98752069949 * t);
-        X0 += 0.00000000035 * Math.cos(4.79214932619 + 10011.2759685204 * t);
-        X0 += 0.00000000035 * Math.cos(4.70173672118 + 10415.78275886861 * t);
-        X0 += 0.00000000034 * Math.cos(6.17898420868 + 37410.8110573621 * t);
-        X0 += 0.00000000033 * Math.cos(5.38008686554 + 49477.59865325469 * t);
-        X0 += 0.00000000042 * Math.cos(4.39944587348 + 18830.6284676209 * t);
-        X0 += 0.00000000035 * Math.cos(5.27547059803 + 49515.1386909235 * t);
-        X0 += 0.00000000047 * Math.cos(0.65352099169 + 31022.50935337269 * t);
-        X0 += 0.00000000034 * Math.cos(4.90000292698 + 100909.28143881488 * t);
-        X0 += 0.00000000033 * Math.cos(3.74889730790 + 10117.5501364767 * t);
-        X0 += 0.00000000033 * Math.cos(5.74498873947 + 10309.5085909123 * t);
-        X0 += 0.00000000034 * Math.cos(4.93693556191 + 7461.49412903589 * t);
-        X0 += 0.00000000034 * Math.cos(3.87169740614 + 45584.9289947039 * t);
-        X0 += 0.00000000032 * Math.cos(0.10155743123 + 9676.23721663209 * t);
-        X0 += 0.00000000039 * Math.cos(2.72509244693 + 316.6356871401 * t);
-        X0 += 0.00000000033 * Math.cos(4.45732662556 + 31748.99137324289 * t);
-        X0 += 0.00000000031 * Math.cos(3.44787752858 + 30103.29594402109 * t);
-        X0 += 0.00000000035 * Math.cos(4.20052948408 + 58946.27306691049 * t);
-        X0 += 0.00000000032 * Math.cos(3.76438941046 + 21977.8601325535 * t);
-        X0 += 0.00000000036 * Math.cos(1.22867623820 + 20430.7470631686 * t);
-        X0 += 0.00000000032 * Math.cos(0.22256920805 + 81732.82650697129 * t);
-        X0 += 0.00000000030 * Math.cos(2.28012493395 + 19573.6185281535 * t);
-        X0 += 0.00000000031 * Math.cos(2.48999281964 + 11.2895177474 * t);
-        X0 += 0.00000000038 * Math.cos(4.94526723480 + 20617.77554105009 * t);
-        X0 += 0.00000000033 * Math.cos(5.88114654745 + 83310.1700494191 * t);
-        X0 += 0.00000000029 * Math.cos(0.24041771274 + 11752.8452335065 * t);
-        X0 += 0.00000000029 * Math.cos(5.51688017902 + 9801.1582668201 * t);
-        X0 += 0.00000000029 * Math.cos(3.97700586835 + 10625.9004605689 * t);
-        X0 += 0.00000000030 * Math.cos(3.62180540908 + 20432.3378342129 * t);
-        X0 += 0.00000000031 * Math.cos(4.94266626401 + 7255.8134692179 * t);
-        X0 += 0.00000000029 * Math.cos(4.41071491793 + 9889.53631207009 * t);
-        X0 += 0.00000000029 * Math.cos(1.77595651133 + 224.5886131854 * t);
-        X0 += 0.00000000028 * Math.cos(0.27335698936 + 10099.09007500929 * t);
-        X0 += 0.00000000028 * Math.cos(2.93734375083 + 10327.96865237972 * t);
-        X0 += 0.00000000037 * Math.cos(0.01012570970 + 47964.0934682755 * t);
-        X0 += 0.00000000029 * Math.cos(1.93091525734 + 10426.3408241655 * t);
-        X0 += 0.00000000034 * Math.cos(4.22987244572 + 1539.5596872955 * t);
-        X0 += 0.00000000039 * Math.cos(5.18936044570 + 30563.8343848409 * t);
-        X0 += 0.00000000039 * Math.cos(1.33268449559 + 5791.16874004909 * t);
-        X0 += 0.00000000028 * Math.cos(5.43649843683 + 1178.9507215561 * t);
-        X0 += 0.00000000031 * Math.cos(5.46650886390 + 39786.8905251375 * t);
-        X0 += 0.00000000028 * Math.cos(3.65949505965 + 73872.40711453209 * t);
-        X0 += 0.00000000027 * Math.cos(0.53018129778 + 9411.22079760369 * t);
-        X0 += 0.00000000028 * Math.cos(0.41914594254 + 15694.7842825621 * t);
-        X0 += 0.00000000034 * Math.cos(3.67856303130 + 40213.4887160135 * t);
-        X0 += 0.00000000037 * Math.cos(4.44226497286 + 36949.4746259077 * t);
-        X0 += 0.00000000035 * Math.cos(3.56301256331 + 37704.2218417393 * t);
-        X0 += 0.00000000028 * Math.cos(5.98328888184 + 4732.2744448269 * t);
-        X0 += 0.00000000037 * Math.cos(2.63889784222 + 13859.8797410489 * t);
-        X0 += 0.00000000035 * Math.cos(2.72288729195 + 18093.13088206649 * t);
-        X0 += 0.00000000035 * Math.cos(5.86447994554 + 18093.6185170335 * t);
-        X0 += 0.00000000031 * Math.cos(2.99968207636 + 42430.7295447753 * t);
-        X0 += 0.00000000026 * Math.cos(4.09923425337 + 8734.6627896301 * t);
-        X0 += 0.00000000028 * Math.cos(1.92482741603 + 7886.4738947555 * t);
-        X0 += 0.00000000031 * Math.cos(0.27204438582 + 25960.1788334057 * t);
-        return X0;
-    }
-
-    static double X1(double t) // 406 terms of order 1
-    {
-        double X1 = 0;
-        X1 += 0.00051880979 * Math.cos(2.28175279050 + 0.2438174835 * t);
-        X1 += 0.00017260820 * Math.cos(0.92558492780 + 20426.8149099055 * t);
-        X1 += 0.00011049864 * Math.cos(2.03460665124 + 10213.0417287275 * t);
-        X1 += 0.00004831725 * Math.cos(4.77621954273 + 10213.5293636945 * t);
-        X1 += 0.00000175352 * Math.cos(1.80600884943 + 30640.1004561165 * t);
-        X1 += 0.00000060293 * Math.cos(4.92800632264 + 8636.18582124671 * t);
-        X1 += 0.00000062982 * Math.cos(2.09113961987 + 10187.2310438947 * t);
-        X1 += 0.00000062707 * Math.cos(1.11859002578 + 10239.8276834943 * t);
-        X1 += 0.00000049342 * Math.cos(4.57448643960 + 11790.8729061423 * t);
-        X1 += 0.00000036826 * Math.cos(2.07066164376 + 775.7664288075 * t);
-        X1 += 0.00000039689 * Math.cos(3.30583760303 + 20426.32727493849 * t);
-        X1 += 0.00000030101 * Math.cos(5.32708077931 + 10022.0810975829 * t);
-        X1 += 0.00000029330 * Math.cos(4.16541909519 + 10404.9776298061 * t);
-        X1 += 0.00000019990 * Math.cos(1.15893210018 + 9438.0067523705 * t);
-        X1 += 0.00000017877 * Math.cos(2.07736309994 + 10989.0519750185 * t);
-        X1 += 0.00000014175 * Math.cos(3.70557013555 + 9683.8383985999 * t);
-        X1 += 0.00000013388 * Math.cos(1.33844459770 + 191.2044486281 * t);
-        X1 += 0.00000013513 * Math.cos(5.77342390577 + 10743.2203287891 * t);
-        X1 += 0.00000014034 * Math.cos(3.49932313102 + 4705.9761250271 * t);
-        X1 += 0.00000013385 * Math.cos(1.15013591011 + 19651.2922985815 * t);
-        X1 += 0.00000006873 * Math.cos(4.83631203632 + 9104.1508116011 * t);
-        X1 += 0.00000007547 * Math.cos(5.57551333367 + 1059.6257476727 * t);
-        X1 += 0.00000007388 * Math.cos(6.00037338177 + 15721.0826023619 * t);
-        X1 += 0.00000005971 * Math.cos(4.65746818072 + 11322.9079157879 * t);
-        X1 += 0.00000005966 * Math.cos(1.10731222776 + 10220.6429106953 * t);
-        X1 += 0.00000005965 * Math.cos(2.10389967659 + 10206.4158166937 * t);
-        X1 += 0.00000005155 * Math.cos(2.49611854501 + 3154.4432674121 * t);
-        X1 += 0.00000004571 * Math.cos(4.59065584437 + 20618.2631760171 * t);
-        X1 += 0.00000004246 * Math.cos(6.05417599890 + 10000.23026825651 * t);
-        X1 += 0.00000004157 * Math.cos(3.43981648730 + 10426.8284591325 * t);
-        X1 += 0.00000004649 * Math.cos(2.86570769042 + 9830.6328314713 * t);
-        X1 += 0.00000004431 * Math.cos(0.34499590120 + 10596.4258959177 * t);
-        X1 += 0.00000003938 * Math.cos(0.35777611387 + 7.3573644843 * t);
-        X1 += 0.00000003399 * Math.cos(2.39541457575 + 7860.6632099227 * t);
-        X1 += 0.00000002758 * Math.cos(3.91101238225 + 19367.4329797163 * t);
-        X1 += 0.00000002699 * Math.cos(0.65662263221 + 7058.8422787989 * t);
-        X1 += 0.00000002515 * Math.cos(5.65192320935 + 8623.96883344369 * t);
-        X1 += 0.00000002725 * Math.cos(4.96638871958 + 801.5771136403 * t);
-        X1 += 0.00000002539 * Math.cos(5.96953617871 + 9411.7084325707 * t);
-        X1 += 0.00000001822 * Math.cos(3.32629702713 + 1109.1347346099 * t);
-        X1 += 0.00000002300 * Math.cos(3.51596869326 + 11015.3502948183 * t);
-        X1 += 0.00000001816 * Math.cos(2.53054405922 + 13368.2164485901 * t);
-        X1 += 0.00000001814 * Math.cos(4.85812202292 + 3930.4535137031 * t);
-        X1 += 0.00000001586 * Math.cos(2.69305924606 + 40853.3860023275 * t);
-        X1 += 0.00000001999 * Math.cos(2.52624662737 + 26.0545023163 * t);
-        X1 += 0.00000001745 * Math.cos(2.26492854011 + 4552.1973145423 * t);
-        X1 += 0.00000001503 * Math.cos(0.63999417521 + 12566.3955174663 * t);
-        X1 += 0.00000001446 * Math.cos(3.91665476010 + 7084.6529636317 * t);
-        X1 += 0.00000001400 * Math.cos(6.24730767768 + 11272.91129388371 * t);
-        X1 += 0.00000001282 * Math.cos(4.66310117053 + 10219.0522880019 * t);
-        X1 += 0.00000001282 * Math.cos(4.83078487684 + 10208.0064393871 * t);
-        X1 += 0.00000001352 * Math.cos(2.86394052328 + 20419.7013629047 * t);
-        X1 += 0.00000001475 * Math.cos(5.68356978914 + 3128.6325825793 * t);
-        X1 += 0.00000001235 * Math.cos(2.12083036469 + 1577.5873599313 * t);
-        X1 += 0.00000001286 * Math.cos(5.69421578243 + 23581.5019948011 * t);
-        X1 += 0.00000001283 * Math.cos(3.88408958331 + 382.6527147397 * t);
-        X1 += 0.00000001171 * Math.cos(3.28848400510 + 9154.1474335053 * t);
-        X1 += 0.00000001084 * Math.cos(4.35524384671 + 10198.2768925095 * t);
-        X1 += 0.00000001084 * Math.cos(5.13864220066 + 10228.78183487951 * t);
-        X1 += 0.00000001198 * Math.cos(4.95985546788 + 16496.6052136859 * t);
-        X1 += 0.00000000869 * Math.cos(2.39926268528 + 2352.6223362883 * t);
-        X1 += 0.00000001112 * Math.cos(0.28321011044 + 1589.3167127673 * t);
-        X1 += 0.00000000922 * Math.cos(0.95607730643 + 15874.8614128467 * t);
-        X1 += 0.00000000743 * Math.cos(0.68161454240 + 28287.2343023447 * t);
-        X1 += 0.00000000746 * Math.cos(2.15375090404 + 3149.4079780717 * t);
-        X1 += 0.00000000797 * Math.cos(5.11193244020 + 426.8420083595 * t);
-        X1 += 0.00000000625 * Math.cos(3.18531726606 + 20400.5165901057 * t);
-        X1 += 0.00000000615 * Math.cos(0.22278918989 + 21536.1934619989 * t);
-        X1 += 0.00000000832 * Math.cos(1.92436994458 + 21228.63584102931 * t);
-        X1 += 0.00000000656 * Math.cos(5.34274867064 + 11014.8626598513 * t);
-        X1 += 0.00000000586 * Math.cos(2.16720042671 + 5661.5758666357 * t);
-        X1 += 0.00000000648 * Math.cos(1.91289793451 + 537.0483295789 * t);
-        X1 += 0.00000000674 * Math.cos(5.27695637784 + 8094.2778683491 * t);
-        X1 += 0.00000000636 * Math.cos(0.25111675779 + 18849.4713674577 * t);
-        X1 += 0.00000000655 * Math.cos(3.80934378726 + 17298.4261448097 * t);
-        X1 += 0.00000000615 * Math.cos(2.39412529972 + 522.8212355773 * t);
-        X1 += 0.00000000507 * Math.cos(0.55272313227 + 20453.1132297053 * t);
-        X1 += 0.00000000451 * Math.cos(5.12854697169 + 32217.4439985643 * t);
-        X1 += 0.00000000480 * Math.cos(2.46182518074 + 529.44714761109 * t);
-        X1 += 0.00000000439 * Math.cos(3.76528392741 + 6282.83203250789 * t);
-        X1 += 0.00000000439 * Math.cos(2.58129029648 + 29051.0275608327 * t);
-        X1 += 0.00000000410 * Math.cos(5.46936106504 + 24357.0246061251 * t);
-        X1 += 0.00000000452 * Math.cos(3.76215759010 + 9146.54625153749 * t);
-        X1 += 0.00000000417 * Math.cos(4.91991688397 + 6681.46867088311 * t);
-        X1 += 0.00000000434 * Math.cos(3.29962044494 + 9160.77334553909 * t);
-        X1 += 0.00000000364 * Math.cos(2.71580018519 + 10640.1275545705 * t);
-        X1 += 0.00000000363 * Math.cos(0.47492285209 + 9786.9311728185 * t);
-        X1 += 0.00000000428 * Math.cos(0.81939944524 + 20809.7114421287 * t);
-        X1 += 0.00000000440 * Math.cos(2.47378943911 + 9690.9519456007 * t);
-        X1 += 0.00000000440 * Math.cos(0.73691128332 + 10736.1067817883 * t);
-        X1 += 0.00000000372 * Math.cos(0.50265145827 + 10251.55703633031 * t);
-        X1 += 0.00000000372 * Math.cos(2.70804928192 + 10175.5016910587 * t);
-        X1 += 0.00000000319 * Math.cos(1.05799277323 + 17277.6507493173 * t);
-        X1 += 0.00000000427 * Math.cos(2.95582453815 + 18837.7420146217 * t);
-        X1 += 0.00000000319 * Math.cos(0.18812390399 + 7860.17557495569 * t);
-        X1 += 0.00000000303 * Math.cos(1.07261427828 + 14765.48286075331 * t);
-        X1 += 0.00000000351 * Math.cos(2.50811815863 + 6490.0204047715 * t);
-        X1 += 0.00000000287 * Math.cos(0.13453811680 + 1577.0997249643 * t);
-        X1 += 0.00000000318 * Math.cos(0.48117169551 + 14945.0723560709 * t);
-        X1 += 0.00000000297 * Math.cos(1.06831804424 + 10233.1991245943 * t);
-        X1 += 0.00000000297 * Math.cos(2.14238269595 + 10193.85960279471 * t);
-        X1 += 0.00000000372 * Math.cos(5.93165702933 + 22004.1584523533 * t);
-        X1 += 0.00000000311 * Math.cos(1.29581017314 + 9683.35076363289 * t);
-        X1 += 0.00000000284 * Math.cos(2.36025817240 + 3442.81876244891 * t);
-        X1 += 0.00000000269 * Math.cos(1.16222638968 + 9573.14444241349 * t);
-        X1 += 0.00000000262 * Math.cos(3.22424327301 + 21202.3375212295 * t);
-        X1 += 0.00000000285 * Math.cos(4.56673097639 + 13745.5900565059 * t);
-        X1 += 0.00000000276 * Math.cos(1.42552468909 + 9676.7248515991 * t);
-        X1 += 0.00000000289 * Math.cos(5.78612487399 + 20235.36664379391 * t);
-        X1 += 0.00000000263 * Math.cos(5.63102915308 + 22779.6810636773 * t);
-        X1 += 0.00000000280 * Math.cos(5.09544909614 + 14919.2616712381 * t);
-        X1 += 0.00000000262 * Math.cos(1.80492967584 + 10750.33387578991 * t);
-        X1 += 0.00000000256 * Math.cos(4.41502652709 + 10234.3047591869 * t);
-        X1 += 0.00000000239 * Math.cos(4.74729006212 + 5507.7970561509 * t);
-        X1 += 0.00000000253 * Math.cos(5.07523059777 + 10192.7539682021 * t);
-        X1 += 0.00000000268 * Math.cos(0.81556729812 + 27511.7116910207 * t);
-        X1 += 0.00000000282 * Math.cos(6.23856358633 + 4731.7868098599 * t);
-        X1 += 0.00000000232 * Math.cos(4.24398296621 + 3723.26514143949 * t);
-        X1 += 0.00000000285 * Math.cos(5.52678704563 + 20956.5058750001 * t);
-        X1 += 0.00000000244 * Math.cos(3.89280464375 + 2353.1099712553 * t);
-        X1 += 0.00000000272 * Math.cos(4.39654535286 + 20000.2167190295 * t);
-        X1 += 0.00000000254 * Math.cos(4.68153309834 + 6283.3196674749 * t);
-        X1 += 0.00000000238 * Math.cos(4.49319488898 + 30639.61282114949 * t);
-        X1 += 0.00000000232 * Math.cos(1.29928686548 + 19890.0103978101 * t);
-        X1 += 0.00000000210 * Math.cos(1.76685272207 + 18073.46112116669 * t);
-        X1 += 0.00000000216 * Math.cos(4.76667969992 + 18073.9487561337 * t);
-        X1 += 0.00000000199 * Math.cos(0.33116574732 + 9639.18456535971 * t);
-        X1 += 0.00000000218 * Math.cos(0.81835363281 + 19904.2374918117 * t);
-        X1 += 0.00000000225 * Math.cos(0.70271153327 + 13937.0383226175 * t);
-        X1 += 0.00000000235 * Math.cos(3.30083410129 + 1551.2890401315 * t);
-        X1 += 0.00000000191 * Math.cos(4.33367506839 + 6872.91693699471 * t);
-        X1 += 0.00000000179 * Math.cos(0.13296789433 + 30110.4094910219 * t);
-        X1 += 0.00000000185 * Math.cos(2.87950187226 + 10787.8741620293 * t);
-        X1 += 0.00000000235 * Math.cos(2.81621171423 + 1066.7392946735 * t);
-        X1 += 0.00000000208 * Math.cos(5.61842788521 + 10007.3438152573 * t);
-        X1 += 0.00000000208 * Math.cos(3.87545816216 + 10419.7149121317 * t);
-        X1 += 0.00000000179 * Math.cos(1.93004567854 + 18875.2820522905 * t);
-        X1 += 0.00000000184 * Math.cos(1.66108282172 + 9967.69771746511 * t);
-        X1 += 0.00000000166 * Math.cos(1.92550152422 + 18307.56341456009 * t);
-        X1 += 0.00000000163 * Math.cos(4.95974146969 + 10225.2587165305 * t);
-        X1 += 0.00000000163 * Math.cos(4.53414457768 + 10201.80001085851 * t);
-        X1 += 0.00000000156 * Math.cos(6.06699266861 + 10316.6221379131 * t);
-        X1 += 0.00000000156 * Math.cos(3.42689337876 + 10110.4365894759 * t);
-        X1 += 0.00000000178 * Math.cos(1.54946223064 + 10459.3610099239 * t);
-        X1 += 0.00000000172 * Math.cos(4.28587752330 + 14143.7390599141 * t);
-        X1 += 0.00000000163 * Math.cos(3.33734155709 + 8616.85528644289 * t);
-        X1 += 0.00000000163 * Math.cos(4.34265322302 + 6.86972951729 * t);
-        X1 += 0.00000000157 * Math.cos(5.15568499427 + 13554.1417903943 * t);
-        X1 += 0.00000000152 * Math.cos(5.19097050991 + 640.1411037975 * t);
-        X1 += 0.00000000149 * Math.cos(4.59659252448 + 7063.87756813929 * t);
-        X1 += 0.00000000179 * Math.cos(2.57671187060 + 29864.5778447925 * t);
-        X1 += 0.00000000140 * Math.cos(3.74361509193 + 8631.0823804445 * t);
-        X1 += 0.00000000140 * Math.cos(1.47790992779 + 529.9347825781 * t);
-        X1 += 0.00000000131 * Math.cos(4.02274509510 + 9794.0447198193 * t);
-        X1 += 0.00000000170 * Math.cos(1.92390663066 + 9153.6597985383 * t);
-        X1 += 0.00000000128 * Math.cos(5.46982761491 + 10633.0140075697 * t);
-        X1 += 0.00000000177 * Math.cos(4.60925492420 + 5481.4987363511 * t);
-        X1 += 0.00000000154 * Math.cos(0.98130891951 + 2119.00767786191 * t);
-        X1 += 0.00000000131 * Math.cos(0.85435524802 + 16984.2399649401 * t);
-        X1 += 0.00000000131 * Math.cos(2.78432814801 + 9437.5191174035 * t);
-        X1 += 0.00000000118 * Math.cos(0.33770416850 + 11790.3852711753 * t);
-        X1 += 0.00000000140 * Math.cos(3.57821725968 + 191.6920835951 * t);
-        X1 += 0.00000000143 * Math.cos(4.89084114003 + 7994.77225950771 * t);
-        X1 += 0.00000000123 * Math.cos(2.80558057017 + 213.5429129215 * t);
-        X1 += 0.00000000111 * Math.cos(1.17808071549 + 8661.9965060795 * t);
-        X1 += 0.00000000121 * Math.cos(2.21290119959 + 28521.3365957381 * t);
-        X1 += 0.00000000119 * Math.cos(1.63506882892 + 3929.96587873609 * t);
-        X1 += 0.00000000106 * Math.cos(5.90822125685 + 1109.6223695769 * t);
-        X1 += 0.00000000099 * Math.cos(2.30048706584 + 20.5315780089 * t);
-        X1 += 0.00000000104 * Math.cos(6.17530863971 + 36147.6536947839 * t);
-        X1 += 0.00000000107 * Math.cos(3.35632619038 + 22805.4917485101 * t);
-        X1 += 0.00000000125 * Math.cos(4.66656170776 + 12432.2864678813 * t);
-        X1 += 0.00000000101 * Math.cos(3.14294490163 + 1052.51220067191 * t);
-        X1 += 0.00000000093 * Math.cos(0.14824204033 + 574.10098085129 * t);
-        X1 += 0.00000000129 * Math.cos(4.90531185126 + 7564.58690325449 * t);
-        X1 += 0.00000000092 * Math.cos(1.92722181403 + 9359.84534697549 * t);
-        X1 += 0.00000000099 * Math.cos(2.32246660439 + 31441.92138724031 * t);
-        X1 += 0.00000000091 * Math.cos(6.18685264626 + 775.2787938405 * t);
-        X1 += 0.00000000112 * Math.cos(5.12786964903 + 10186.7434089277 * t);
-        X1 += 0.00000000095 * Math.cos(3.66782801204 + 10433.9420061333 * t);
-        X1 += 0.00000000095 * Math.cos(5.82605803532 + 9993.1167212557 * t);
-        X1 += 0.00000000092 * Math.cos(0.35578303465 + 14143.2514249471 * t);
-        X1 += 0.00000000096 * Math.cos(5.32806010513 + 220.6564599223 * t);
-        X1 += 0.00000000084 * Math.cos(5.80809189896 + 6770.46678376209 * t);
-        X1 += 0.00000000088 * Math.cos(1.99015323508 + 11322.42028082089 * t);
-        X1 += 0.00000000110 * Math.cos(0.30263518591 + 11802.6022589783 * t);
-        X1 += 0.00000000108 * Math.cos(5.13400336320 + 29580.7185259273 * t);
-        X1 += 0.00000000093 * Math.cos(5.89321185295 + 2957.9597119601 * t);
-        X1 += 0.00000000101 * Math.cos(2.09186878730 + 6770.9544187291 * t);
-        X1 += 0.00000000105 * Math.cos(4.75827384051 + 8662.48414104651 * t);
-        X1 += 0.00000000094 * Math.cos(1.47978763830 + 20433.9284569063 * t);
-        X1 += 0.00000000089 * Math.cos(2.27805851709 + 15720.5949673949 * t);
-        X1 += 0.00000000088 * Math.cos(5.79703525886 + 206.42936592071 * t);
-        X1 += 0.00000000101 * Math.cos(2.08027263650 + 7085.1405985987 * t);
-        X1 += 0.00000000077 * Math.cos(4.50520624769 + 10177.5014970171 * t);
-        X1 += 0.00000000077 * Math.cos(4.98867979968 + 10249.55723037191 * t);
-        X1 += 0.00000000087 * Math.cos(1.15473517110 + 2378.9206560881 * t);
-        X1 += 0.00000000080 * Math.cos(1.30578005980 + 5507.3094211839 * t);
-        X1 += 0.00000000100 * Math.cos(4.88512859986 + 14945.5599910379 * t);
-        X1 += 0.00000000096 * Math.cos(2.91515384440 + 8624.45646841071 * t);
-        X1 += 0.00000000071 * Math.cos(1.17266085434 + 24150.3238688285 * t);
-        X1 += 0.00000000089 * Math.cos(6.18976687503 + 18875.76968725751 * t);
-        X1 += 0.00000000071 * Math.cos(0.26607557139 + 29043.91401383189 * t);
-        X1 += 0.00000000075 * Math.cos(6.05522319041 + 19897.1239448109 * t);
-        X1 += 0.00000000068 * Math.cos(3.96046123295 + 10384.2022343137 * t);
-        X1 += 0.00000000068 * Math.cos(5.53342481442 + 10042.8564930753 * t);
-        X1 += 0.00000000077 * Math.cos(0.65929723000 + 29573.6049789265 * t);
-        X1 += 0.00000000073 * Math.cos(0.21801456964 + 29587.8320729281 * t);
-        X1 += 0.00000000063 * Math.cos(3.39603171816 + 10239.3400485273 * t);
-        X1 += 0.00000000086 * Math.cos(3.93300049009 + 19650.8046636145 * t);
-        X1 += 0.00000000086 * Math.cos(0.41942430117 + 19360.3194327155 * t);
-        X1 += 0.00000000061 * Math.cos(0.66096242131 + 29058.1411078335 * t);
-        X1 += 0.00000000081 * Math.cos(4.74585662186 + 11764.5745863425 * t);
-        X1 += 0.00000000066 * Math.cos(4.80481512048 + 26735.7014447297 * t);
-        X1 += 0.00000000075 * Math.cos(1.14917066460 + 25934.3681485729 * t);
-        X1 += 0.00000000067 * Math.cos(1.15917986378 + 40077.8633910035 * t);
-        X1 += 0.00000000059 * Math.cos(4.95335370099 + 10988.5643400515 * t);
-        X1 += 0.00000000077 * Math.cos(0.71010883429 + 20213.5158144675 * t);
-        X1 += 0.00000000077 * Math.cos(3.31402335732 + 7834.3648901229 * t);
-        X1 += 0.00000000057 * Math.cos(1.06828917998 + 10404.48999483909 * t);
-        X1 += 0.00000000057 * Math.cos(1.40187066473 + 110.45013870291 * t);
-        X1 += 0.00000000067 * Math.cos(1.57273164979 + 17777.87244946549 * t);
-        X1 += 0.00000000060 * Math.cos(6.21424049877 + 30831.5487222281 * t);
-        X1 += 0.00000000058 * Math.cos(2.47733285182 + 12592.2062022991 * t);
-        X1 += 0.00000000054 * Math.cos(4.90109601900 + 19317.43635781211 * t);
-        X1 += 0.00000000065 * Math.cos(3.16919569918 + 25158.8455372489 * t);
-        X1 += 0.00000000064 * Math.cos(2.20893920610 + 18308.0510495271 * t);
-        X1 += 0.00000000059 * Math.cos(0.10111317126 + 9779.32999085069 * t);
-        X1 += 0.00000000053 * Math.cos(1.51934336072 + 27490.9362955283 * t);
-        X1 += 0.00000000050 * Math.cos(1.75539922827 + 10103.3230424751 * t);
-        X1 += 0.00000000050 * Math.cos(1.45530151192 + 10323.7356849139 * t);
-        X1 += 0.00000000050 * Math.cos(6.21018693293 + 39794.0040721383 * t);
-        X1 += 0.00000000055 * Math.cos(5.90009200198 + 9793.5570848523 * t);
-        X1 += 0.00000000048 * Math.cos(4.23138520787 + 29089.0552334685 * t);
-        X1 += 0.00000000051 * Math.cos(0.59694211544 + 26709.8907598969 * t);
-        X1 += 0.00000000047 * Math.cos(3.85157632106 + 16522.4158985187 * t);
-        X1 += 0.00000000060 * Math.cos(6.18581659700 + 12592.6938372661 * t);
-        X1 += 0.00000000057 * Math.cos(3.26039666468 + 2218.51328670329 * t);
-        X1 += 0.00000000047 * Math.cos(3.62423252693 + 20640.1140053435 * t);
-        X1 += 0.00000000046 * Math.cos(4.31718986476 + 19786.9176235915 * t);
-        X1 += 0.00000000047 * Math.cos(2.61830291086 + 57836.89451481709 * t);
-        X1 += 0.00000000045 * Math.cos(3.93917249780 + 3532.3045102949 * t);
-        X1 += 0.00000000047 * Math.cos(0.02859294876 + 22003.6708173863 * t);
-        X1 += 0.00000000045 * Math.cos(4.38533780662 + 30000.2031698025 * t);
-        X1 += 0.00000000043 * Math.cos(5.13871521232 + 29786.9040743645 * t);
-        X1 += 0.00000000051 * Math.cos(2.50512066478 + 44008.0730872231 * t);
-        X1 += 0.00000000042 * Math.cos(4.64511163321 + 9999.7426332895 * t);
-        X1 += 0.00000000050 * Math.cos(5.23051268807 + 23581.0143598341 * t);
-        X1 += 0.00000000051 * Math.cos(1.29476911793 + 13341.9181287903 * t);
-        X1 += 0.00000000040 * Math.cos(5.56163575062 + 33019.2649296881 * t);
-        X1 += 0.00000000051 * Math.cos(1.12826192024 + 13656.10430865991 * t);
-        X1 += 0.00000000048 * Math.cos(5.72986884882 + 213.0552779545 * t);
-        X1 += 0.00000000039 * Math.cos(5.77845089286 + 20447.5903053979 * t);
-        X1 += 0.00000000039 * Math.cos(1.18630935880 + 10595.9382609507 * t);
-        X1 += 0.00000000042 * Math.cos(6.23472824067 + 30665.9111409493 * t);
-        X1 += 0.00000000042 * Math.cos(0.50469059035 + 3914.71340755109 * t);
-        X1 += 0.00000000042 * Math.cos(4.77756101392 + 38204.9311768545 * t);
-        X1 += 0.00000000041 * Math.cos(3.60025537560 + 17469.0990154289 * t);
-        X1 += 0.00000000036 * Math.cos(5.95301096335 + 10077.90403868451 * t);
-        X1 += 0.00000000036 * Math.cos(3.54087508402 + 10349.1546887045 * t);
-        X1 += 0.00000000040 * Math.cos(0.08435320836 + 18830.14083265389 * t);
-        X1 += 0.00000000039 * Math.cos(5.88165362901 + 18844.36792665549 * t);
-        X1 += 0.00000000034 * Math.cos(3.36376891454 + 21001.1597082403 * t);
-        X1 += 0.00000000034 * Math.cos(1.57325955329 + 13936.5506876505 * t);
-        X1 += 0.00000000032 * Math.cos(0.62824969555 + 36949.4746259077 * t);
-        X1 += 0.00000000033 * Math.cos(4.53469110076 + 16983.75232997309 * t);
-        X1 += 0.00000000040 * Math.cos(3.88665965181 + 47938.2827834427 * t);
-        X1 += 0.00000000032 * Math.cos(5.46497273946 + 39301.8531447125 * t);
-        X1 += 0.00000000032 * Math.cos(5.46497273946 + 39302.3407796795 * t);
-        X1 += 0.00000000036 * Math.cos(0.13872965215 + 19374.5465267171 * t);
-        X1 += 0.00000000032 * Math.cos(5.49940747482 + 16894.7542170941 * t);
-        X1 += 0.00000000042 * Math.cos(0.37006377215 + 55798.7021758819 * t);
-        X1 += 0.00000000031 * Math.cos(3.51648880247 + 20043.9183776823 * t);
-        X1 += 0.00000000033 * Math.cos(1.44339512827 + 48418.21672306549 * t);
-        X1 += 0.00000000031 * Math.cos(1.24271036891 + 9573.6320773805 * t);
-        X1 += 0.00000000034 * Math.cos(5.27191504099 + 54247.1693182669 * t);
-        X1 += 0.00000000032 * Math.cos(2.12080485437 + 10191.6785343681 * t);
-        X1 += 0.00000000032 * Math.cos(1.08989588581 + 10235.3801930209 * t);
-        X1 += 0.00000000031 * Math.cos(2.88701937696 + 8087.1643213483 * t);
-        X1 += 0.00000000032 * Math.cos(1.43989537444 + 19896.63630984389 * t);
-        X1 += 0.00000000036 * Math.cos(0.86097595428 + 7255.3258342509 * t);
-        X1 += 0.00000000030 * Math.cos(1.96661961760 + 10853.4266500085 * t);
-        X1 += 0.00000000037 * Math.cos(0.40709954927 + 27511.2240560537 * t);
-        X1 += 0.00000000032 * Math.cos(3.94523183143 + 19366.94534474929 * t);
-        X1 += 0.00000000029 * Math.cos(5.21162982204 + 10291.20313412251 * t);
-        X1 += 0.00000000029 * Math.cos(4.28225622533 + 10135.8555932665 * t);
-        X1 += 0.00000000028 * Math.cos(5.74069429835 + 104351.85638378029 * t);
-        X1 += 0.00000000032 * Math.cos(4.16582591800 + 20206.4022674667 * t);
-        X1 += 0.00000000029 * Math.cos(6.04399510869 + 29864.0902098255 * t);
-        X1 += 0.00000000029 * Math.cos(3.70427099153 + 49515.1386909235 * t);
-        X1 += 0.00000000027 * Math.cos(5.20809241529 + 5661.0882316687 * t);
-        X1 += 0.00000000034 * Math.cos(2.13914627667 + 9161.2609805061 * t);
-        X1 += 0.00000000027 * Math.cos(2.35964005449 + 6872.42930202769 * t);
-        X1 += 0.00000000032 * Math.cos(5.37255836333 + 9836.1557557787 * t);
-        X1 += 0.00000000032 * Math.cos(4.12132768404 + 10590.9029716103 * t);
-        X1 += 0.00000000027 * Math.cos(6.25293311610 + 6298.57213865991 * t);
-        X1 += 0.00000000035 * Math.cos(5.35069959846 + 9986.0532309055 * t);
-        X1 += 0.00000000035 * Math.cos(4.14318644891 + 10441.00549648351 * t);
-        X1 += 0.00000000033 * Math.cos(2.06705744681 + 31441.4337522733 * t);
-        X1 += 0.00000000026 * Math.cos(1.99269274261 + 40879.6843221273 * t);
-        X1 += 0.00000000034 * Math.cos(2.86141693506 + 1059.1381127057 * t);
-        X1 += 0.00000000028 * Math.cos(3.27143415157 + 27197.03787618409 * t);
-        X1 += 0.00000000026 * Math.cos(4.77604105797 + 34363.6094150395 * t);
-        X1 += 0.00000000032 * Math.cos(1.06669637529 + 11265.7977468829 * t);
-        X1 += 0.00000000029 * Math.cos(3.31179813455 + 30206.38871823969 * t);
-        X1 += 0.00000000032 * Math.cos(5.28518925051 + 51868.4924796623 * t);
-        X1 += 0.00000000029 * Math.cos(3.60960317836 + 35371.6434484929 * t);
-        X1 += 0.00000000029 * Math.cos(3.60960317836 + 35372.1310834599 * t);
-        X1 += 0.00000000027 * Math.cos(1.39820608512 + 34596.1208371689 * t);
-        X1 += 0.00000000033 * Math.cos(1.79087945691 + 59728.91187210151 * t);
-        X1 += 0.00000000029 * Math.cos(3.70229059266 + 20220.6293614683 * t);
-        X1 += 0.00000000025 * Math.cos(4.71719114041 + 25933.8805136059 * t);
-        X1 += 0.00000000024 * Math.cos(5.85674327230 + 8734.17515466309 * t);
-        X1 += 0.00000000027 * Math.cos(2.50446352876 + 66813.80865321669 * t);
-        X1 += 0.00000000024 * Math.cos(1.21352192025 + 36173.4643796167 * t);
-        X1 += 0.00000000024 * Math.cos(4.42282415616 + 31022.9969883397 * t);
-        X1 += 0.00000000023 * Math.cos(0.26441959495 + 24382.8352909579 * t);
-        X1 += 0.00000000028 * Math.cos(1.01958443856 + 27461.46703058189 * t);
-        X1 += 0.00000000027 * Math.cos(2.82757763572 + 30220.6158122413 * t);
-        X1 += 0.00000000023 * Math.cos(2.71148449796 + 10367.3081741793 * t);
-        X1 += 0.00000000023 * Math.cos(0.49921624223 + 10059.7505532097 * t);
-        X1 += 0.00000000023 * Math.cos(5.14356401989 + 20452.6255947383 * t);
-        X1 += 0.00000000026 * Math.cos(2.79748800924 + 39271.4266540445 * t);
-        X1 += 0.00000000026 * Math.cos(3.27996977321 + 39257.1995600429 * t);
-        X1 += 0.00000000022 * Math.cos(0.64539022706 + 43232.0628409321 * t);
-        X1 += 0.00000000022 * Math.cos(0.64539022706 + 43232.5504758991 * t);
-        X1 += 0.00000000026 * Math.cos(3.68377277974 + 8101.39141534989 * t);
-        X1 += 0.00000000022 * Math.cos(2.92850972756 + 24978.7684069643 * t);
-        X1 += 0.00000000022 * Math.cos(2.54378881371 + 25158.3579022819 * t);
-        X1 += 0.00000000030 * Math.cos(4.35689894819 + 17248.18148437089 * t);
-        X1 += 0.00000000022 * Math.cos(4.40135816223 + 27991.15799567649 * t);
-        X1 += 0.00000000022 * Math.cos(1.75419561511 + 30426.8013606785 * t);
-        X1 += 0.00000000022 * Math.cos(5.61039853516 + 802.0647486073 * t);
-        X1 += 0.00000000028 * Math.cos(5.29619670984 + 17297.9385098427 * t);
-        X1 += 0.00000000021 * Math.cos(1.01517564916 + 9147.03388650451 * t);
-        X1 += 0.00000000024 * Math.cos(5.57258032099 + 46386.7499258277 * t);
-        X1 += 0.00000000021 * Math.cos(2.72351924355 + 27197.5255111511 * t);
-        X1 += 0.00000000021 * Math.cos(3.36801059218 + 44809.8940183469 * t);
-        X1 += 0.00000000024 * Math.cos(5.90015079750 + 52176.0501006319 * t);
-        X1 += 0.00000000025 * Math.cos(4.38058629438 + 22805.9793834771 * t);
-        X1 += 0.00000000022 * Math.cos(0.93569574784 + 9566.03089541269 * t);
-        X1 += 0.00000000023 * Math.cos(2.47187255983 + 6309.1303523077 * t);
-        X1 += 0.00000000021 * Math.cos(2.05775290145 + 10949.4058772263 * t);
-        X1 += 0.00000000021 * Math.cos(1.15294783874 + 9477.65285016271 * t);
-        X1 += 0.00000000024 * Math.cos(0.56697771725 + 10288.3109622618 * t);
-        X1 += 0.00000000024 * Math.cos(2.64372302294 + 10138.7477651272 * t);
-        X1 += 0.00000000027 * Math.cos(0.54831840561 + 9580.2579894143 * t);
-        X1 += 0.00000000020 * Math.cos(5.88803150614 + 8635.69818627969 * t);
-        X1 += 0.00000000020 * Math.cos(2.21258610934 + 11280.0248408845 * t);
-        X1 += 0.00000000021 * Math.cos(3.74792739506 + 3531.81687532789 * t);
-        X1 += 0.00000000022 * Math.cos(1.10471815077 + 62883.5989569971 * t);
-        X1 += 0.00000000020 * Math.cos(4.47242869756 + 17468.6113804619 * t);
-        X1 += 0.00000000023 * Math.cos(2.67526294292 + 10263.2863891663 * t);
-        X1 += 0.00000000023 * Math.cos(0.53543779727 + 10163.7723382227 * t);
-        X1 += 0.00000000027 * Math.cos(4.35265351175 + 32216.95636359729 * t);
-        X1 += 0.00000000021 * Math.cos(0.20196459716 + 47624.0966035731 * t);
-        X1 += 0.00000000023 * Math.cos(4.44238440406 + 55022.6919295909 * t);
-        X1 += 0.00000000021 * Math.cos(5.91319275029 + 18300.44986755929 * t);
-        X1 += 0.00000000026 * Math.cos(3.21324974687 + 63659.1215683211 * t);
-        X1 += 0.00000000021 * Math.cos(1.29300419185 + 43071.65547154729 * t);
-        X1 += 0.00000000019 * Math.cos(1.80883011026 + 20316.6085886861 * t);
-        X1 += 0.00000000027 * Math.cos(2.91239597616 + 28286.74666737769 * t);
-        X1 += 0.00000000020 * Math.cos(0.92201397306 + 62081.7780258733 * t);
-        X1 += 0.00000000021 * Math.cos(3.71520409064 + 24341.7721349401 * t);
-        X1 += 0.00000000020 * Math.cos(2.70818412083 + 49477.59865325469 * t);
-        X1 += 0.00000000020 * Math.cos(3.92540543269 + 70744.0183494363 * t);
-        X1 += 0.00000000018 * Math.cos(3.24042993488 + 14128.4865887291 * t);
-        X1 += 0.00000000022 * Math.cos(1.96762524944 + 27991.6456306435 * t);
-        X1 += 0.00000000018 * Math.cos(5.40557069193 + 9050.56702431969 * t);
-        X1 += 0.00000000018 * Math.cos(1.21555571929 + 4705.4884900601 * t);
-        X1 += 0.00000000017 * Math.cos(1.63173823644 + 28313.0449871775 * t);
-        X1 += 0.00000000017 * Math.cos(4.46941749243 + 10497.38868255971 * t);
-        X1 += 0.00000000017 * Math.cos(5.02446855494 + 9929.6700448293 * t);
-        X1 += 0.00000000017 * Math.cos(0.77261247444 + 19624.9939787817 * t);
-        X1 += 0.00000000018 * Math.cos(5.82240394487 + 29050.53992586569 * t);
-        X1 += 0.00000000017 * Math.cos(6.13439373448 + 18314.67696156089 * t);
-        X1 += 0.00000000016 * Math.cos(4.75152522759 + 48740.1037145665 * t);
-        X1 += 0.00000000018 * Math.cos(2.82811097731 + 38526.3305333885 * t);
-        X1 += 0.00000000018 * Math.cos(0.02896271913 + 42430.7295447753 * t);
-        X1 += 0.00000000018 * Math.cos(4.17302923646 + 42456.5402296081 * t);
-        X1 += 0.00000000018 * Math.cos(1.01249884206 + 33794.2999060451 * t);
-        X1 += 0.00000000018 * Math.cos(1.01249884206 + 33794.7875410121 * t);
-        X1 += 0.00000000016 * Math.cos(5.43519924864 + 9745.5643733401 * t);
-        X1 += 0.00000000016 * Math.cos(4.05868679873 + 10681.49435404891 * t);
-        X1 += 0.00000000016 * Math.cos(4.91307958316 + 38734.6221419491 * t);
-        X1 += 0.00000000016 * Math.cos(1.98563978946 + 47162.2725371517 * t);
-        X1 += 0.00000000016 * Math.cos(1.98563978946 + 47162.7601721187 * t);
-        X1 += 0.00000000015 * Math.cos(5.40287159543 + 10199.3022696929 * t);
-        X1 += 0.00000000015 * Math.cos(4.09101445194 + 10227.7564576961 * t);
-        X1 += 0.00000000015 * Math.cos(4.40286421658 + 41654.71929848429 * t);
-        X1 += 0.00000000017 * Math.cos(0.71063741169 + 50316.9596220473 * t);
-        X1 += 0.00000000015 * Math.cos(2.70406423385 + 53285.4286527253 * t);
-        X1 += 0.00000000015 * Math.cos(2.34568334494 + 66011.98772209289 * t);
-        X1 += 0.00000000015 * Math.cos(2.83728676171 + 38727.5085949483 * t);
-        X1 += 0.00000000015 * Math.cos(1.51871369727 + 46360.9392409949 * t);
-        X1 += 0.00000000019 * Math.cos(4.60379625756 + 67589.3312645407 * t);
-        X1 += 0.00000000014 * Math.cos(1.35244180937 + 21228.1482060623 * t);
-        X1 += 0.00000000014 * Math.cos(0.37440411348 + 40000.1896205755 * t);
-        X1 += 0.00000000014 * Math.cos(1.52734358006 + 11027.07964765431 * t);
-        X1 += 0.00000000014 * Math.cos(1.68335716013 + 9399.9790797347 * t);
-        X1 += 0.00000000014 * Math.cos(1.39514541459 + 37895.6701078509 * t);
-        X1 += 0.00000000014 * Math.cos(1.44888424284 + 37410.8110573621 * t);
-        X1 += 0.00000000014 * Math.cos(2.94215733290 + 50291.1489372145 * t);
-        X1 += 0.00000000013 * Math.cos(4.17219621815 + 12565.9078824993 * t);
-        X1 += 0.00000000015 * Math.cos(6.22361957178 + 21486.1968400947 * t);
-        X1 += 0.00000000013 * Math.cos(6.14132227253 + 52670.3134107861 * t);
-        return X1 * t;
-    }
-
-    static double X2(double t) // 133 terms of order 2
-    {
-        double X2 = 0;
-        X2 += 0.00039116576 * Math.cos(4.74721085665 + 10213.5293636945 * t);
-        X2 += 0.00001782208 * Math.cos(4.51495547304 + 0.2438174835 * t);
-        X2 += 0.00000953335 * Math.cos(3.63516488566 + 10213.0417287275 * t);
-        X2 += 0.00000818754 * Math.cos(5.17913474548 + 20426.8149099055 * t);
-        X2 += 0.00000012014 * Math.cos(5.55504004602 + 30640.1004561165 * t);
-        X2 += 0.00000008598 * Math.cos(0.48030487437 + 10239.8276834943 * t);
-        X2 += 0.00000008636 * Math.cos(2.67172999291 + 10187.2310438947 * t);
-        X2 += 0.00000003631 * Math.cos(5.13091719462 + 20426.32727493849 * t);
-        X2 += 0.00000002965 * Math.cos(3.11794464067 + 8636.18582124671 * t);
-        X2 += 0.00000003797 * Math.cos(0.73505869096 + 9438.0067523705 * t);
-        X2 += 0.00000003421 * Math.cos(2.39489149839 + 10989.0519750185 * t);
-        X2 += 0.00000002218 * Math.cos(3.69616749811 + 10022.0810975829 * t);
-        X2 += 0.00000002134 * Math.cos(5.69388419448 + 10404.9776298061 * t);
-        X2 += 0.00000002187 * Math.cos(6.14628758046 + 11790.8729061423 * t);
-        X2 += 0.00000001794 * Math.cos(0.26131314165 + 775.7664288075 * t);
-        X2 += 0.00000001421 * Math.cos(1.89983182794 + 2353.1099712553 * t);
-        X2 += 0.00000000972 * Math.cos(2.65726077013 + 1577.0997249643 * t);
-        X2 += 0.00000000682 * Math.cos(1.68817935727 + 4705.9761250271 * t);
-        X2 += 0.00000000658 * Math.cos(4.84602149726 + 9683.8383985999 * t);
-        X2 += 0.00000000715 * Math.cos(1.34290194955 + 9830.6328314713 * t);
-        X2 += 0.00000000683 * Math.cos(1.84498400268 + 10596.4258959177 * t);
-        X2 += 0.00000000568 * Math.cos(2.68352094618 + 19651.2922985815 * t);
-        X2 += 0.00000000544 * Math.cos(3.07694729173 + 191.2044486281 * t);
-        X2 += 0.00000000678 * Math.cos(4.45588465096 + 18073.9487561337 * t);
-        X2 += 0.00000000574 * Math.cos(5.09706238916 + 801.5771136403 * t);
-        X2 += 0.00000000418 * Math.cos(4.31488544265 + 10743.2203287891 * t);
-        X2 += 0.00000000561 * Math.cos(3.32645295084 + 6283.3196674749 * t);
-        X2 += 0.00000000531 * Math.cos(0.97430911335 + 7058.8422787989 * t);
-        X2 += 0.00000000371 * Math.cos(5.86501171146 + 9411.7084325707 * t);
-        X2 += 0.00000000414 * Math.cos(2.16574465889 + 529.9347825781 * t);
-        X2 += 0.00000000287 * Math.cos(3.12423584879 + 9104.1508116011 * t);
-        X2 += 0.00000000314 * Math.cos(1.28037944612 + 15721.0826023619 * t);
-        X2 += 0.00000000301 * Math.cos(2.30568402177 + 26.0545023163 * t);
-        X2 += 0.00000000354 * Math.cos(2.15592461692 + 13368.2164485901 * t);
-        X2 += 0.00000000361 * Math.cos(3.03077999717 + 14143.7390599141 * t);
-        X2 += 0.00000000349 * Math.cos(2.69866467882 + 22004.1584523533 * t);
-        X2 += 0.00000000253 * Math.cos(3.49550693096 + 1059.6257476727 * t);
-        X2 += 0.00000000253 * Math.cos(6.11019925201 + 11322.9079157879 * t);
-        X2 += 0.00000000253 * Math.cos(4.31046856084 + 3154.4432674121 * t);
-        X2 += 0.00000000321 * Math.cos(3.51926077378 + 11015.3502948183 * t);
-        X2 += 0.00000000305 * Math.cos(5.79665591896 + 3128.6325825793 * t);
-        X2 += 0.00000000202 * Math.cos(1.70860223309 + 10426.8284591325 * t);
-        X2 += 0.00000000195 * Math.cos(6.03063629123 + 20618.2631760171 * t);
-        X2 += 0.00000000178 * Math.cos(1.34005224381 + 10000.23026825651 * t);
-        X2 += 0.00000000157 * Math.cos(6.22467540109 + 40853.3860023275 * t);
-        X2 += 0.00000000159 * Math.cos(5.43308713463 + 382.6527147397 * t);
-        X2 += 0.00000000177 * Math.cos(1.96418161194 + 21228.63584102931 * t);
-        X2 += 0.00000000126 * Math.cos(2.62766766451 + 18849.4713674577 * t);
-        X2 += 0.00000000131 * Math.cos(0.73006046049 + 1577.5873599313 * t);
-        X2 += 0.00000000148 * Math.cos(4.01019073124 + 5507.3094211839 * t);
-        X2 += 0.00000000139 * Math.cos(4.55765675380 + 7860.6632099227 * t);
-        X2 += 0.00000000146 * Math.cos(4.19737673183 + 19897.1239448109 * t);
-        X2 += 0.00000000133 * Math.cos(3.60550981906 + 17298.4261448097 * t);
-        X2 += 0.00000000088 * Math.cos(0.74174526538 + 8623.96883344369 * t);
-        X2 += 0.00000000116 * Math.cos(3.56002594290 + 9153.6597985383 * t);
-        X2 += 0.00000000111 * Math.cos(5.81554919476 + 20453.1132297053 * t);
-        X2 += 0.00000000077 * Math.cos(5.72141298699 + 7084.6529636317 * t);
-        X2 += 0.00000000081 * Math.cos(3.85700349092 + 2352.6223362883 * t);
-        X2 += 0.00000000088 * Math.cos(0.02333507058 + 3930.4535137031 * t);
-        X2 += 0.00000000077 * Math.cos(3.12509816452 + 16496.6052136859 * t);
-        X2 += 0.00000000069 * Math.cos(1.03046490507 + 23581.5019948011 * t);
-        X2 += 0.00000000058 * Math.cos(4.44021603496 + 9154.1474335053 * t);
-        X2 += 0.00000000062 * Math.cos(5.17807799754 + 1109.1347346099 * t);
-        X2 += 0.00000000063 * Math.cos(5.42244602531 + 9437.5191174035 * t);
-        X2 += 0.00000000047 * Math.cos(3.73566941706 + 29051.0275608327 * t);
-        X2 += 0.00000000054 * Math.cos(2.34590128189 + 20809.7114421287 * t);
-        X2 += 0.00000000055 * Math.cos(0.27212302992 + 4731.7868098599 * t);
-        X2 += 0.00000000046 * Math.cos(5.56053620908 + 19367.4329797163 * t);
-        X2 += 0.00000000044 * Math.cos(4.38854627107 + 10787.8741620293 * t);
-        X2 += 0.00000000044 * Math.cos(5.10533977629 + 9639.18456535971 * t);
-        X2 += 0.00000000040 * Math.cos(0.19406822983 + 8094.2778683491 * t);
-        X2 += 0.00000000041 * Math.cos(0.23997896197 + 3929.96587873609 * t);
-        X2 += 0.00000000047 * Math.cos(4.99296496795 + 12566.3955174663 * t);
-        X2 += 0.00000000038 * Math.cos(5.33087019939 + 6282.83203250789 * t);
-        X2 += 0.00000000045 * Math.cos(4.21174903018 + 25934.3681485729 * t);
-        X2 += 0.00000000034 * Math.cos(4.95079079946 + 28287.2343023447 * t);
-        X2 += 0.00000000033 * Math.cos(0.84076094156 + 11014.8626598513 * t);
-        X2 += 0.00000000034 * Math.cos(1.04665276837 + 14919.2616712381 * t);
-        X2 += 0.00000000032 * Math.cos(3.42124102189 + 24357.0246061251 * t);
-        X2 += 0.00000000028 * Math.cos(3.83338891686 + 20235.36664379391 * t);
-        X2 += 0.00000000040 * Math.cos(3.61668312604 + 29580.7185259273 * t);
-        X2 += 0.00000000033 * Math.cos(5.35791701104 + 4552.1973145423 * t);
-        X2 += 0.00000000033 * Math.cos(0.97035705954 + 6490.0204047715 * t);
-        X2 += 0.00000000027 * Math.cos(0.80253867623 + 10640.1275545705 * t);
-        X2 += 0.00000000026 * Math.cos(2.37794131191 + 9786.9311728185 * t);
-        X2 += 0.00000000026 * Math.cos(0.52950336946 + 3149.4079780717 * t);
-        X2 += 0.00000000025 * Math.cos(2.09390807595 + 10192.7539682021 * t);
-        X2 += 0.00000000025 * Math.cos(4.26281208500 + 10234.3047591869 * t);
-        X2 += 0.00000000024 * Math.cos(1.66809456061 + 21536.1934619989 * t);
-        X2 += 0.00000000026 * Math.cos(5.00411416070 + 14143.2514249471 * t);
-        X2 += 0.00000000024 * Math.cos(6.24637715602 + 18307.56341456009 * t);
-        X2 += 0.00000000024 * Math.cos(6.23872379023 + 5507.7970561509 * t);
-        X2 += 0.00000000025 * Math.cos(0.42768275114 + 18875.2820522905 * t);
-        X2 += 0.00000000030 * Math.cos(3.82426253554 + 20400.5165901057 * t);
-        X2 += 0.00000000025 * Math.cos(2.48440063286 + 27511.7116910207 * t);
-        X2 += 0.00000000025 * Math.cos(1.71524233724 + 8661.9965060795 * t);
-        X2 += 0.00000000019 * Math.cos(5.30003473361 + 11272.91129388371 * t);
-        X2 += 0.00000000022 * Math.cos(0.30636210636 + 30639.61282114949 * t);
-        X2 += 0.00000000026 * Math.cos(2.43625052079 + 213.5429129215 * t);
-        X2 += 0.00000000018 * Math.cos(3.34143186430 + 28521.3365957381 * t);
-        X2 += 0.00000000023 * Math.cos(2.19310017282 + 13937.0383226175 * t);
-        X2 += 0.00000000024 * Math.cos(0.64478935102 + 13367.7288136231 * t);
-        X2 += 0.00000000021 * Math.cos(0.38789416530 + 10186.7434089277 * t);
-        X2 += 0.00000000019 * Math.cos(2.13540095490 + 10988.5643400515 * t);
-        X2 += 0.00000000018 * Math.cos(3.02877957634 + 32217.4439985643 * t);
-        X2 += 0.00000000020 * Math.cos(5.05892110724 + 191.6920835951 * t);
-        X2 += 0.00000000017 * Math.cos(1.00021130316 + 15874.8614128467 * t);
-        X2 += 0.00000000014 * Math.cos(3.13205445097 + 21202.3375212295 * t);
-        X2 += 0.00000000014 * Math.cos(2.49765103801 + 17277.6507493173 * t);
-        X2 += 0.00000000015 * Math.cos(0.11837091281 + 18073.46112116669 * t);
-        X2 += 0.00000000014 * Math.cos(4.77259175609 + 10239.3400485273 * t);
-        X2 += 0.00000000014 * Math.cos(2.38979050420 + 14945.0723560709 * t);
-        X2 += 0.00000000014 * Math.cos(4.18962126273 + 8662.48414104651 * t);
-        X2 += 0.00000000014 * Math.cos(5.23413049702 + 11764.5745863425 * t);
-        X2 += 0.00000000013 * Math.cos(1.93488532828 + 34570.3101523361 * t);
-        X2 += 0.00000000013 * Math.cos(0.61222694816 + 22779.6810636773 * t);
-        X2 += 0.00000000012 * Math.cos(3.85463106546 + 31441.92138724031 * t);
-        X2 += 0.00000000011 * Math.cos(4.27550517900 + 10220.6429106953 * t);
-        X2 += 0.00000000011 * Math.cos(2.07789625538 + 10206.4158166937 * t);
-        X2 += 0.00000000010 * Math.cos(3.61798826402 + 7.3573644843 * t);
-        X2 += 0.00000000010 * Math.cos(1.57784029028 + 22003.6708173863 * t);
-        X2 += 0.00000000012 * Math.cos(3.46936245747 + 25158.8455372489 * t);
-        X2 += 0.00000000009 * Math.cos(3.35948007941 + 38500.5198485557 * t);
-        X2 += 0.00000000010 * Math.cos(2.93060547107 + 11790.3852711753 * t);
-        X2 += 0.00000000012 * Math.cos(2.06733085074 + 17297.9385098427 * t);
-        X2 += 0.00000000008 * Math.cos(2.77292844888 + 10404.48999483909 * t);
-        X2 += 0.00000000009 * Math.cos(4.94797813171 + 29089.0552334685 * t);
-        X2 += 0.00000000007 * Math.cos(1.94867772097 + 43232.5504758991 * t);
-        X2 += 0.00000000007 * Math.cos(6.01401025413 + 30000.2031698025 * t);
-        X2 += 0.00000000009 * Math.cos(4.47573265145 + 7860.17557495569 * t);
-        X2 += 0.00000000009 * Math.cos(4.90406740797 + 3531.81687532789 * t);
-        X2 += 0.00000000007 * Math.cos(1.80027626747 + 22805.4917485101 * t);
-        X2 += 0.00000000007 * Math.cos(1.18159563994 + 529.44714761109 * t);
-        return X2 * t * t;
-    }
-
-    static double X3(double t) // 25 terms of order 3
-    {
-        double X3 = 0;
-        X3 += 0.00000055518 * Math.cos(5.27636048864 + 10213.0417287275 * t);
-        X3 += 0.00000057047 * Math.cos(5.87936770190 + 0.2438174835 * t);
-        X3 += 0.00000032093 * Math.cos(3.05612494200 + 20426.8149099055 * t);
-        X3 += 0.00000018867 * Math.cos(4.86548938285 + 10213.5293636945 * t);
-        X3 += 0.00000000716 * Math.cos(3.26370970167 + 30640.1004561165 * t);
-        X3 += 0.00000000218 * Math.cos(0.66337297711 + 20426.32727493849 * t);
-        X3 += 0.00000000032 * Math.cos(0.22308629368 + 8636.18582124671 * t);
-        X3 += 0.00000000034 * Math.cos(2.69459006102 + 10239.8276834943 * t);
-        X3 += 0.00000000034 * Math.cos(3.66311278763 + 10187.2310438947 * t);
-        X3 += 0.00000000027 * Math.cos(6.14322148767 + 11790.8729061423 * t);
-        X3 += 0.00000000020 * Math.cos(3.64902570031 + 775.7664288075 * t);
-        X3 += 0.00000000016 * Math.cos(0.61723457662 + 10022.0810975829 * t);
-        X3 += 0.00000000016 * Math.cos(5.73871486925 + 10404.9776298061 * t);
-        X3 += 0.00000000010 * Math.cos(3.76695027338 + 40853.3860023275 * t);
-        X3 += 0.00000000010 * Math.cos(2.80431500839 + 9438.0067523705 * t);
-        X3 += 0.00000000010 * Math.cos(3.65133831937 + 10989.0519750185 * t);
-        X3 += 0.00000000008 * Math.cos(5.27853417078 + 9683.8383985999 * t);
-        X3 += 0.00000000007 * Math.cos(6.04834530223 + 191.2044486281 * t);
-        X3 += 0.00000000007 * Math.cos(1.06297780672 + 10743.2203287891 * t);
-        X3 += 0.00000000008 * Math.cos(5.07274318566 + 4705.9761250271 * t);
-        X3 += 0.00000000007 * Math.cos(2.72342831598 + 19651.2922985815 * t);
-        X3 += 0.00000000004 * Math.cos(0.12637968025 + 9104.1508116011 * t);
-        X3 += 0.00000000004 * Math.cos(0.86625328320 + 1059.6257476727 * t);
-        X3 += 0.00000000004 * Math.cos(1.29045440101 + 15721.0826023619 * t);
-        X3 += 0.00000000003 * Math.cos(6.23075905972 + 11322.9079157879 * t);
-        return X3 * t * t * t;
-    }
-
-    static double X4(double t) // 12 terms of order 4
-    {
-        double X4 = 0;
-        X4 += 0.00000083081 * Math.cos(1.47755047593 + 10213.5293636945 * t);
-        X4 += 0.00000002486 * Math.cos(0.71777141614 + 10213.0417287275 * t);
-        X4 += 0.00000000657 * Math.cos(1.07128766548 + 20426.8149099055 * t);
-        X4 += 0.00000000217 * Math.cos(3.60535760515 + 0.2438174835 * t);
-        X4 += 0.00000000035 * Math.cos(0.98556560154 + 30640.1004561165 * t);
-        X4 += 0.00000000011 * Math.cos(2.44309012697 + 20426.32727493849 * t);
-        X4 += 0.00000000005 * Math.cos(2.06924437235 + 10239.8276834943 * t);
-        X4 += 0.00000000005 * Math.cos(4.26079266220 + 10187.2310438947 * t);
-        X4 += 0.00000000003 * Math.cos(4.92755555887 + 2353.1099712553 * t);
-        X4 += 0.00000000002 * Math.cos(4.89604781036 + 8636.18582124671 * t);
-        X4 += 0.00000000002 * Math.cos(5.91399711778 + 1577.0997249643 * t);
-        X4 += 0.00000000002 * Math.cos(2.29946508014 + 9438.0067523705 * t);
-        return X4 * t * t * t * t;
-    }
-
-    static double X5(double t) // 4 terms of order 5
-    {
-        double X5 = 0;
-        X5 += 0.00000000631 * Math.cos(1.59925460860 + 10213.5293636945 * t);
-        X5 += 0.00000000095 * Math.cos(2.54586723363 + 10213.0417287275 * t);
-        X5 += 0.00000000088 * Math.cos(1.72183649952 + 0.2438174835 * t);
-        X5 += 0.00000000040 * Math.cos(5.81128931245 + 20426.8149099055 * t);
-        return X5 * t * t * t * t * t;
-    }
-
-    static double Y0(double t) // 685 terms of order 0
-    {
-        double Y0 = 0;
-        Y0 += 0.72268045621 * Math.cos(1.60535036499 + 10213.5293636945 * t);
-        Y0 += 0.00733886107 * Math.cos(3.86619610007 + 0.2438174835 * t);
-        Y0 += 0.00244692613 * Math.cos(2.48525998209 + 20426.8149099055 * t);
-        Y0 += 0.00063317702 * Math.cos(2.06415043880 + 10213.0417287275 * t);
-        Y0 += 0.00002795043 * Math.cos(5.04300618072 + 2353.1099712553 * t);
-        Y0 += 0.00001941766 * Math.cos(5.80436164129 + 1577.0997249643 * t);
-        Y0 += 0.00001242687 * Math.cos(3.36533956931 + 30640.1004561165 * t);
-        Y0 += 0.00001163369 * Math.cos(1.30924660823 + 18073.9487561337 * t);
-        Y0 += 0.00001044280 * Math.cos(0.18242473165 + 6283.3196674749 * t);
-        Y0 += 0.00000767420 * Math.cos(5.30492070227 + 529.9347825781 * t);
-        Y0 += 0.00000669994 * Math.cos(6.16996307370 + 14143.7390599141 * t);
-        Y0 += 0.00000657435 * Math.cos(5.21342894071 + 8636.18582124671 * t);
-        Y0 += 0.00000476814 * Math.cos(4.27269799631 + 10187.2310438947 * t);
-        Y0 += 0.00000475078 * Math.cos(2.07969169968 + 10239.8276834943 * t);
-        Y0 += 0.00000559353 * Math.cos(5.87818075735 + 22004.1584523533 * t);
-        Y0 += 0.00000544577 * Math.cos(1.14724395566 + 11790.8729061423 * t);
-        Y0 += 0.00000408020 * Math.cos(2.35529138555 + 775.7664288075 * t);
-        Y0 += 0.00000281345 * Math.cos(1.23218938626 + 9683.8383985999 * t);
-        Y0 += 0.00000270035 * Math.cos(2.10691120117 + 9438.0067523705 * t);
-        Y0 += 0.00000268860 * Math.cos(5.13228928315 + 10743.2203287891 * t);
-        Y0 += 0.00000299980 * Math.cos(0.94363100672 + 5507.3094211839 * t);
-        Y0 += 0.00000214307 * Math.cos(5.46162572826 + 10022.0810975829 * t);
-        Y0 += 0.00000241347 * Math.cos(4.23602697206 + 10989.0519750185 * t);
-        Y0 += 0.00000208372 * Math.cos(0.89206276557 + 10404.9776298061 * t);
-        Y0 += 0.00000271224 * Math.cos(1.05337463479 + 19897.1239448109 * t);
-        Y0 += 0.00000264276 * Math.cos(0.40825385367 + 9153.6597985383 * t);
-        Y0 += 0.00000214535 * Math.cos(2.94606412427 + 20426.32727493849 * t);
-        Y0 += 0.00000175488 * Math.cos(1.41092496739 + 191.2044486281 * t);
-        Y0 += 0.00000123055 * Math.cos(0.01778159955 + 1059.6257476727 * t);
-        Y0 += 0.00000154230 * Math.cos(3.78480528747 + 4705.9761250271 * t);
-        Y0 += 0.00000147037 * Math.cos(3.98774418232 + 19651.2922985815 * t);
-        Y0 += 0.00000100153 * Math.cos(2.36411678071 + 9437.5191174035 * t);
-        Y0 += 0.00000069555 * Math.cos(4.80550652867 + 9104.1508116011 * t);
-        Y0 += 0.00000060317 * Math.cos(1.54595691846 + 11322.9079157879 * t);
-        Y0 += 0.00000081789 * Math.cos(2.57258880007 + 15721.0826023619 * t);
-        Y0 += 0.00000058874 * Math.cos(1.48684982669 + 20618.2631760171 * t);
-        Y0 += 0.00000060776 * Math.cos(2.21391240560 + 4552.1973145423 * t);
-        Y0 += 0.00000046411 * Math.cos(5.23309117015 + 10192.7539682021 * t);
-        Y0 += 0.00000046285 * Math.cos(1.11880987202 + 10234.3047591869 * t);
-        Y0 += 0.00000062288 * Math.cos(1.02030092694 + 25934.3681485729 * t);
-        Y0 += 0.00000050365 * Math.cos(0.03955377805 + 8623.96883344369 * t);
-        Y0 += 0.00000057275 * Math.cos(2.21318821830 + 3154.4432674121 * t);
-        Y0 += 0.00000044993 * Math.cos(0.06128576651 + 19367.4329797163 * t);
-        Y0 += 0.00000040167 * Math.cos(1.64087495621 + 9411.7084325707 * t);
-        Y0 += 0.00000047716 * Math.cos(5.57543351345 + 213.5429129215 * t);
-        Y0 += 0.00000039763 * Math.cos(3.21104786001 + 801.5771136403 * t);
-        Y0 += 0.00000036106 * Math.cos(4.71533355073 + 11015.3502948183 * t);
-        Y0 += 0.00000045150 * Math.cos(0.48042336302 + 29580.7185259273 * t);
-        Y0 += 0.00000036973 * Math.cos(2.82409044668 + 7058.8422787989 * t);
-        Y0 += 0.00000044928 * Math.cos(3.79012120364 + 13367.7288136231 * t);
-        Y0 += 0.00000027822 * Math.cos(3.37420388243 + 1109.1347346099 * t);
-        Y0 += 0.00000031714 * Math.cos(4.13937067249 + 15874.8614128467 * t);
-        Y0 += 0.00000036279 * Math.cos(2.34561943360 + 10000.23026825651 * t);
-        Y0 += 0.00000035360 * Math.cos(4.01138333911 + 10426.8284591325 * t);
-        Y0 += 0.00000025530 * Math.cos(3.98045270905 + 7860.6632099227 * t);
-        Y0 += 0.00000024951 * Math.cos(3.53621528232 + 13368.2164485901 * t);
-        Y0 += 0.00000020285 * Math.cos(1.13150552857 + 10220.6429106953 * t);
-        Y0 += 0.00000020275 * Math.cos(5.21708912625 + 10206.4158166937 * t);
-        Y0 += 0.00000021291 * Math.cos(1.37841249317 + 3128.6325825793 * t);
-        Y0 += 0.00000019173 * Math.cos(0.47393618404 + 7.3573644843 * t);
-        Y0 += 0.00000018901 * Math.cos(0.61568845651 + 26.0545023163 * t);
-        Y0 += 0.00000021874 * Math.cos(5.21237379147 + 17297.9385098427 * t);
-        Y0 += 0.00000019888 * Math.cos(1.40722670834 + 3930.4535137031 * t);
-        Y0 += 0.00000015237 * Math.cos(2.81371946863 + 9830.6328314713 * t);
-        Y0 += 0.00000017432 * Math.cos(1.76492288618 + 3531.81687532789 * t);
-        Y0 += 0.00000014522 * Math.cos(3.53852074947 + 10596.4258959177 * t);
-        Y0 += 0.00000016153 * Math.cos(3.63782003268 + 7084.6529636317 * t);
-        Y0 += 0.00000016091 * Math.cos(0.78643837533 + 20213.5158144675 * t);
-        Y0 += 0.00000014842 * Math.cos(2.49914152987 + 29864.5778447925 * t);
-        Y0 += 0.00000011112 * Math.cos(2.20077056640 + 28287.2343023447 * t);
-        Y0 += 0.00000012828 * Math.cos(0.47914049065 + 1589.3167127673 * t);
-        Y0 += 0.00000011212 * Math.cos(0.90580714897 + 9154.1474335053 * t);
-        Y0 += 0.00000014376 * Math.cos(2.29215877818 + 23581.5019948011 * t);
-        Y0 += 0.00000012175 * Math.cos(3.29545280575 + 21228.63584102931 * t);
-        Y0 += 0.00000009393 * Math.cos(5.33561048405 + 11272.91129388371 * t);
-        Y0 += 0.00000012824 * Math.cos(2.98347327697 + 18837.25437965469 * t);
-        Y0 += 0.00000009207 * Math.cos(5.34806792169 + 5661.5758666357 * t);
-        Y0 += 0.00000008622 * Math.cos(3.39909215992 + 21536.1934619989 * t);
-        Y0 += 0.00000011653 * Math.cos(4.63096590501 + 3340.8562441833 * t);
-        Y0 += 0.00000011496 * Math.cos(0.35144252183 + 21228.1482060623 * t);
-        Y0 += 0.00000009511 * Math.cos(4.97800970942 + 17298.4261448097 * t);
-        Y0 += 0.00000011281 * Math.cos(6.15396443981 + 9786.44353785149 * t);
-        Y0 += 0.00000008498 * Math.cos(2.28560931070 + 1577.5873599313 * t);
-        Y0 += 0.00000010763 * Math.cos(5.94541313957 + 9929.6700448293 * t);
-        Y0 += 0.00000008847 * Math.cos(0.10898852487 + 29051.0275608327 * t);
-        Y0 += 0.00000010378 * Math.cos(0.40689046689 + 10497.38868255971 * t);
-        Y0 += 0.00000007498 * Math.cos(4.24537566245 + 40853.3860023275 * t);
-        Y0 += 0.00000007375 * Math.cos(5.51259327017 + 16496.6052136859 * t);
-        Y0 += 0.00000008792 * Math.cos(5.18118052745 + 10208.0064393871 * t);
-        Y0 += 0.00000008786 * Math.cos(1.17109977444 + 10219.0522880019 * t);
-        Y0 += 0.00000007423 * Math.cos(2.59067948380 + 10175.5016910587 * t);
-        Y0 += 0.00000007386 * Math.cos(3.76162100212 + 10251.55703633031 * t);
-        Y0 += 0.00000006692 * Math.cos(5.95406544386 + 8094.2778683491 * t);
-        Y0 += 0.00000006531 * Math.cos(5.88279509444 + 20419.7013629047 * t);
-        Y0 += 0.00000005876 * Math.cos(0.45809002649 + 32217.4439985643 * t);
-        Y0 += 0.00000007945 * Math.cos(1.89399424197 + 12566.3955174663 * t);
-        Y0 += 0.00000005723 * Math.cos(0.73880953765 + 24357.0246061251 * t);
-        Y0 += 0.00000005960 * Math.cos(5.04842520573 + 6681.46867088311 * t);
-        Y0 += 0.00000005974 * Math.cos(0.59430542004 + 426.8420083595 * t);
-        Y0 += 0.00000005761 * Math.cos(2.33144379428 + 2352.6223362883 * t);
-        Y0 += 0.00000007279 * Math.cos(5.06948362320 + 11014.8626598513 * t);
-        Y0 += 0.00000004942 * Math.cos(2.08880442511 + 3149.4079780717 * t);
-        Y0 += 0.00000005638 * Math.cos(3.95061708151 + 382.6527147397 * t);
-        Y0 += 0.00000006069 * Math.cos(4.02647068871 + 9683.35076363289 * t);
-        Y0 += 0.00000004581 * Math.cos(1.06268488434 + 14765.48286075331 * t);
-        Y0 += 0.00000006372 * Math.cos(1.77392148125 + 25158.3579022819 * t);
-        Y0 += 0.00000004902 * Math.cos(5.88378200448 + 18837.7420146217 * t);
-        Y0 += 0.00000004698 * Math.cos(4.98709845390 + 18849.4713674577 * t);
-        Y0 += 0.00000005371 * Math.cos(2.87505683972 + 26088.1469590577 * t);
-        Y0 += 0.00000005495 * Math.cos(1.72171503357 + 17086.2024832057 * t);
-        Y0 += 0.00000005381 * Math.cos(3.84016723700 + 33794.7875410121 * t);
-        Y0 += 0.00000004870 * Math.cos(1.21408319983 + 20453.1132297053 * t);
-        Y0 += 0.00000003922 * Math.cos(1.30852789776 + 13745.5900565059 * t);
-        Y0 += 0.00000004608 * Math.cos(5.91400382368 + 5661.0882316687 * t);
-        Y0 += 0.00000003970 * Math.cos(4.65819000475 + 4731.7868098599 * t);
-        Y0 += 0.00000003556 * Math.cos(5.06044480376 + 1551.2890401315 * t);
-        Y0 += 0.00000004329 * Math.cos(1.83456881254 + 23958.8756027169 * t);
-        Y0 += 0.00000003274 * Math.cos(5.00533011391 + 529.44714761109 * t);
-        Y0 += 0.00000003328 * Math.cos(2.61855780370 + 18307.56341456009 * t);
-        Y0 += 0.00000002787 * Math.cos(3.62713580728 + 11790.3852711753 * t);
-        Y0 += 0.00000003603 * Math.cos(0.20878953983 + 14945.0723560709 * t);
-        Y0 += 0.00000002949 * Math.cos(1.25283496540 + 10198.2768925095 * t);
-        Y0 += 0.00000002944 * Math.cos(5.09946216488 + 10228.78183487951 * t);
-        Y0 += 0.00000003221 * Math.cos(5.14877320464 + 20400.5165901057 * t);
-        Y0 += 0.00000003653 * Math.cos(3.19373783247 + 29088.5675985015 * t);
-        Y0 += 0.00000002683 * Math.cos(3.77978842246 + 6282.83203250789 * t);
-        Y0 += 0.00000002848 * Math.cos(2.09414295555 + 11322.42028082089 * t);
-        Y0 += 0.00000002745 * Math.cos(0.21041860525 + 5481.4987363511 * t);
-        Y0 += 0.00000002426 * Math.cos(1.24386679781 + 6872.91693699471 * t);
-        Y0 += 0.00000002262 * Math.cos(5.05423750942 + 7860.17557495569 * t);
-        Y0 += 0.00000002431 * Math.cos(2.28515436796 + 30110.4094910219 * t);
-        Y0 += 0.00000002218 * Math.cos(4.26312729072 + 17277.6507493173 * t);
-        Y0 += 0.00000002955 * Math.cos(3.73004048151 + 27511.7116910207 * t);
-        Y0 += 0.00000002300 * Math.cos(2.32608220761 + 3442.81876244891 * t);
-        Y0 += 0.00000002424 * Math.cos(5.68140966349 + 20956.5058750001 * t);
-        Y0 += 0.00000002622 * Math.cos(2.17435265531 + 9580.7456243813 * t);
-        Y0 += 0.00000002032 * Math.cos(5.76558577000 + 20000.2167190295 * t);
-        Y0 += 0.00000002206 * Math.cos(2.03456492963 + 537.0483295789 * t);
-        Y0 += 0.00000002010 * Math.cos(5.28017944038 + 21202.3375212295 * t);
-        Y0 += 0.00000002471 * Math.cos(4.17654037966 + 10846.3131030077 * t);
-        Y0 += 0.00000002315 * Math.cos(0.62235018491 + 9573.14444241349 * t);
-        Y0 += 0.00000002188 * Math.cos(4.41129286184 + 9967.69771746511 * t);
-        Y0 += 0.00000002278 * Math.cos(2.82110310010 + 10110.4365894759 * t);
-        Y0 += 0.00000002278 * Math.cos(3.53119029368 + 10316.6221379131 * t);
-        Y0 += 0.00000001808 * Math.cos(2.43291137306 + 22779.6810636773 * t);
-        Y0 += 0.00000002244 * Math.cos(0.87218452760 + 5507.7970561509 * t);
-        Y0 += 0.00000001796 * Math.cos(4.66992847541 + 7063.87756813929 * t);
-        Y0 += 0.00000002118 * Math.cos(1.94080318718 + 10459.3610099239 * t);
-        Y0 += 0.00000001908 * Math.cos(4.04072387238 + 20809.7114421287 * t);
-        Y0 += 0.00000002093 * Math.cos(5.40951959375 + 522.8212355773 * t);
-        Y0 += 0.00000001753 * Math.cos(5.11036210545 + 13554.1417903943 * t);
-        Y0 += 0.00000002072 * Math.cos(2.68969610898 + 9690.9519456007 * t);
-        Y0 += 0.00000001993 * Math.cos(5.12289612530 + 10404.48999483909 * t);
-        Y0 += 0.00000002160 * Math.cos(4.61577108214 + 33018.7772947211 * t);
-        Y0 += 0.00000001962 * Math.cos(3.66408601951 + 10736.1067817883 * t);
-        Y0 += 0.00000001484 * Math.cos(4.31259578278 + 3723.26514143949 * t);
-        Y0 += 0.00000001997 * Math.cos(1.63225621325 + 18875.2820522905 * t);
-        Y0 += 0.00000002057 * Math.cos(3.55699495023 + 102.84895673509 * t);
-        Y0 += 0.00000002016 * Math.cos(5.26645554222 + 37724.9972372317 * t);
-        Y0 += 0.00000001618 * Math.cos(3.30590238659 + 7085.1405985987 * t);
-        Y0 += 0.00000001659 * Math.cos(0.00230057752 + 20235.36664379391 * t);
-        Y0 += 0.00000001553 * Math.cos(6.13988283072 + 14945.5599910379 * t);
-        Y0 += 0.00000001873 * Math.cos(6.21493810839 + 30213.5022652405 * t);
-        Y0 += 0.00000001542 * Math.cos(2.45160700066 + 6490.0204047715 * t);
-        Y0 += 0.00000001360 * Math.cos(4.22919267004 + 10233.1991245943 * t);
-        Y0 += 0.00000001360 * Math.cos(2.12310072374 + 10193.85960279471 * t);
-        Y0 += 0.00000001592 * Math.cos(5.43357759705 + 10138.7477651272 * t);
-        Y0 += 0.00000001592 * Math.cos(0.91871579673 + 10288.3109622618 * t);
-        Y0 += 0.00000001368 * Math.cos(1.28838366385 + 18875.76968725751 * t);
-        Y0 += 0.00000001235 * Math.cos(5.36285347606 + 20.5315780089 * t);
-        Y0 += 0.00000001485 * Math.cos(0.27770606219 + 9160.77334553909 * t);
-        Y0 += 0.00000001516 * Math.cos(3.63976169766 + 9146.54625153749 * t);
-        Y0 += 0.00000001233 * Math.cos(1.75819099072 + 18073.46112116669 * t);
-        Y0 += 0.00000001560 * Math.cos(5.07643229822 + 9897.1374940379 * t);
-        Y0 += 0.00000001560 * Math.cos(1.27586109556 + 10529.9212333511 * t);
-        Y0 += 0.00000001179 * Math.cos(4.44352915820 + 14919.2616712381 * t);
-        Y0 += 0.00000001213 * Math.cos(6.01696685843 + 28521.3365957381 * t);
-        Y0 += 0.00000001182 * Math.cos(4.06358300800 + 9794.0447198193 * t);
-        Y0 += 0.00000001402 * Math.cos(6.10447020216 + 8661.9965060795 * t);
-        Y0 += 0.00000001158 * Math.cos(2.28822825043 + 10633.0140075697 * t);
-        Y0 += 0.00000001257 * Math.cos(5.80717617406 + 2378.9206560881 * t);
-        Y0 += 0.00000001089 * Math.cos(3.83624431348 + 30639.61282114949 * t);
-        Y0 += 0.00000001402 * Math.cos(3.43315827736 + 10640.1275545705 * t);
-        Y0 += 0.00000001483 * Math.cos(0.85707928326 + 21535.70582703189 * t);
-        Y0 += 0.00000001079 * Math.cos(5.95495431418 + 775.2787938405 * t);
-        Y0 += 0.00000001370 * Math.cos(3.04127991943 + 9786.9311728185 * t);
-        Y0 += 0.00000001064 * Math.cos(4.03087864361 + 16984.2399649401 * t);
-        Y0 += 0.00000001158 * Math.cos(5.90602944547 + 3929.96587873609 * t);
-        Y0 += 0.00000000967 * Math.cos(0.02581826777 + 640.1411037975 * t);
-        Y0 += 0.00000000995 * Math.cos(5.83778649915 + 8662.48414104651 * t);
-        Y0 += 0.00000001305 * Math.cos(6.03771868030 + 36948.9869909407 * t);
-        Y0 += 0.00000001191 * Math.cos(2.95662506124 + 39264.3131070437 * t);
-        Y0 += 0.00000001010 * Math.cos(5.80804230901 + 10007.3438152573 * t);
-        Y0 += 0.00000001010 * Math.cos(0.54425107612 + 10419.7149121317 * t);
-        Y0 += 0.00000000950 * Math.cos(2.79830239920 + 1109.6223695769 * t);
-        Y0 += 0.00000001221 * Math.cos(3.93109520572 + 75.0254160508 * t);
-        Y0 += 0.00000000987 * Math.cos(3.89911553784 + 13937.0383226175 * t);
-        Y0 += 0.00000001164 * Math.cos(3.04468597570 + 22805.4917485101 * t);
-        Y0 += 0.00000000845 * Math.cos(5.84334943435 + 6770.46678376209 * t);
-        Y0 += 0.00000000996 * Math.cos(2.96758372829 + 13341.9181287903 * t);
-        Y0 += 0.00000001123 * Math.cos(0.26297644138 + 246.0754637129 * t);
-        Y0 += 0.00000001139 * Math.cos(0.86118865103 + 2119.00767786191 * t);
-        Y0 += 0.00000001046 * Math.cos(5.02841709583 + 31441.92138724031 * t);
-        Y0 += 0.00000000879 * Math.cos(5.42815094849 + 15720.5949673949 * t);
-        Y0 += 0.00000000761 * Math.cos(5.58947417459 + 7564.58690325449 * t);
-        Y0 += 0.00000000814 * Math.cos(4.49927037870 + 9676.7248515991 * t);
-        Y0 += 0.00000000786 * Math.cos(0.51236116044 + 11764.5745863425 * t);
-        Y0 += 0.00000000883 * Math.cos(4.72642948961 + 25158.8455372489 * t);
-        Y0 += 0.00000000795 * Math.cos(1.85352659217 + 10750.33387578991 * t);
-        Y0 += 0.00000000770 * Math.cos(5.39717699890 + 7834.3648901229 * t);
-        Y0 += 0.00000000825 * Math.cos(0.49699119244 + 191.6920835951 * t);
-        Y0 += 0.00000000696 * Math.cos(1.82641391127 + 36147.6536947839 * t);
-        Y0 += 0.00000000941 * Math.cos(5.56301751479 + 28520.84896077109 * t);
-        Y0 += 0.00000000787 * Math.cos(4.31922851608 + 19890.0103978101 * t);
-        Y0 += 0.00000000788 * Math.cos(4.89324353272 + 7994.77225950771 * t);
-        Y0 += 0.00000000624 * Math.cos(1.27682792425 + 39794.0040721383 * t);
-        Y0 += 0.00000000609 * Math.cos(0.58636941909 + 8624.45646841071 * t);
-        Y0 += 0.00000000836 * Math.cos(0.40176116197 + 41655.2069334513 * t);
-        Y0 += 0.00000000744 * Math.cos(0.94447022556 + 19904.2374918117 * t);
-        Y0 += 0.00000000689 * Math.cos(3.03363296847 + 1066.7392946735 * t);
-        Y0 += 0.00000000803 * Math.cos(1.17639368940 + 40879.1966871603 * t);
-        Y0 += 0.00000000692 * Math.cos(5.25875345423 + 6770.9544187291 * t);
-        Y0 += 0.00000000585 * Math.cos(0.31354909520 + 14143.2514249471 * t);
-        Y0 += 0.00000000678 * Math.cos(1.25286840883 + 12592.2062022991 * t);
-        Y0 += 0.00000000573 * Math.cos(0.95211843581 + 12592.6938372661 * t);
-        Y0 += 0.00000000670 * Math.cos(2.49987738716 + 10239.3400485273 * t);
-        Y0 += 0.00000000655 * Math.cos(0.26769747072 + 19366.94534474929 * t);
-        Y0 += 0.00000000626 * Math.cos(5.88947359425 + 52176.0501006319 * t);
-        Y0 += 0.00000000548 * Math.cos(2.24703921308 + 17777.87244946549 * t);
-        Y0 += 0.00000000709 * Math.cos(4.47405816630 + 26735.7014447297 * t);
-        Y0 += 0.00000000531 * Math.cos(1.52107728998 + 110.45013870291 * t);
-        Y0 += 0.00000000605 * Math.cos(3.06366115762 + 10059.7505532097 * t);
-        Y0 += 0.00000000676 * Math.cos(3.63142919749 + 20529.9076841241 * t);
-        Y0 += 0.00000000598 * Math.cos(1.46005524042 + 12432.2864678813 * t);
-        Y0 += 0.00000000593 * Math.cos(3.28870937227 + 10367.3081741793 * t);
-        Y0 += 0.00000000663 * Math.cos(4.76628280750 + 1162.7185218913 * t);
-        Y0 += 0.00000000466 * Math.cos(0.80841803105 + 8631.0823804445 * t);
-        Y0 += 0.00000000468 * Math.cos(4.59842473713 + 16983.75232997309 * t);
-        Y0 += 0.00000000454 * Math.cos(5.50480764823 + 10042.8564930753 * t);
-        Y0 += 0.00000000462 * Math.cos(1.11716283210 + 6.86972951729 * t);
-        Y0 += 0.00000000444 * Math.cos(0.84748580654 + 10384.2022343137 * t);
-        Y0 += 0.00000000460 * Math.cos(5.40321784334 + 11802.6022589783 * t);
-        Y0 += 0.00000000436 * Math.cos(0.28613833283 + 9639.18456535971 * t);
-        Y0 += 0.00000000565 * Math.cos(0.99439008608 + 8520.87605922509 * t);
-        Y0 += 0.00000000416 * Math.cos(0.15526058452 + 10225.2587165305 * t);
-        Y0 += 0.00000000416 * Math.cos(6.19703280926 + 10201.80001085851 * t);
-        Y0 += 0.00000000414 * Math.cos(4.74636525670 + 10186.7434089277 * t);
-        Y0 += 0.00000000431 * Math.cos(3.30159385303 + 8616.85528644289 * t);
-        Y0 += 0.00000000393 * Math.cos(0.85768879239 + 3532.3045102949 * t);
-        Y0 += 0.00000000406 * Math.cos(6.06603671083 + 10787.8741620293 * t);
-        Y0 += 0.00000000380 * Math.cos(4.93978031772 + 19317.43635781211 * t);
-        Y0 += 0.00000000458 * Math.cos(3.28496308708 + 2218.51328670329 * t);
-        Y0 += 0.00000000433 * Math.cos(0.59107482876 + 19650.8046636145 * t);
-        Y0 += 0.00000000377 * Math.cos(4.10235161087 + 149.8070146181 * t);
-        Y0 += 0.00000000390 * Math.cos(1.63992074391 + 13936.5506876505 * t);
-        Y0 += 0.00000000360 * Math.cos(4.38429398498 + 24150.3238688285 * t);
-        Y0 += 0.00000000359 * Math.cos(2.69008664310 + 30831.5487222281 * t);
-        Y0 += 0.00000000501 * Math.cos(2.59817403162 + 44809.4063833799 * t);
-        Y0 += 0.00000000409 * Math.cos(3.34267900163 + 27197.03787618409 * t);
-        Y0 += 0.00000000354 * Math.cos(1.27226804531 + 10323.7356849139 * t);
-        Y0 += 0.00000000354 * Math.cos(5.08002534847 + 10103.3230424751 * t);
-        Y0 += 0.00000000428 * Math.cos(1.10028111046 + 13656.10430865991 * t);
-        Y0 += 0.00000000467 * Math.cos(3.73227844246 + 38.3768531213 * t);
-        Y0 += 0.00000000343 * Math.cos(0.04251143462 + 19786.9176235915 * t);
-        Y0 += 0.00000000457 * Math.cos(5.50264719385 + 18308.0510495271 * t);
-        Y0 += 0.00000000399 * Math.cos(5.69770325248 + 1052.51220067191 * t);
-        Y0 += 0.00000000445 * Math.cos(5.89891356885 + 30665.9111409493 * t);
-        Y0 += 0.00000000344 * Math.cos(4.75093105230 + 27490.9362955283 * t);
-        Y0 += 0.00000000315 * Math.cos(4.73109393582 + 20640.1140053435 * t);
-        Y0 += 0.00000000399 * Math.cos(2.67833209975 + 10212.0448909862 * t);
-        Y0 += 0.00000000399 * Math.cos(3.67396129403 + 10215.0138364028 * t);
-        Y0 += 0.00000000390 * Math.cos(0.71131374079 + 30000.2031698025 * t);
-        Y0 += 0.00000000340 * Math.cos(5.88673417604 + 22805.9793834771 * t);
-        Y0 += 0.00000000398 * Math.cos(2.07757082821 + 9836.1557557787 * t);
-        Y0 += 0.00000000311 * Math.cos(0.04968618848 + 22003.6708173863 * t);
-        Y0 += 0.00000000404 * Math.cos(2.41513448299 + 20352.0333113382 * t);
-        Y0 += 0.00000000366 * Math.cos(2.69947342940 + 16522.4158985187 * t);
-        Y0 += 0.00000000350 * Math.cos(4.56156653428 + 15874.37377787969 * t);
-        Y0 += 0.00000000385 * Math.cos(6.08106804956 + 20180.9832636761 * t);
-        Y0 += 0.00000000379 * Math.cos(4.27472269461 + 10590.9029716103 * t);
-        Y0 += 0.00000000395 * Math.cos(1.98398365933 + 17277.16311435029 * t);
-        Y0 += 0.00000000383 * Math.cos(0.20953871800 + 35372.1310834599 * t);
-        Y0 += 0.00000000277 * Math.cos(4.73141990633 + 10988.5643400515 * t);
-        Y0 += 0.00000000365 * Math.cos(6.13706743141 + 10349.1546887045 * t);
-        Y0 += 0.00000000365 * Math.cos(0.21522596237 + 10077.90403868451 * t);
-        Y0 += 0.00000000336 * Math.cos(5.45252157770 + 220.6564599223 * t);
-        Y0 += 0.00000000313 * Math.cos(0.95373705811 + 6309.1303523077 * t);
-        Y0 += 0.00000000276 * Math.cos(4.02007434964 + 26709.8907598969 * t);
-        Y0 += 0.00000000283 * Math.cos(3.96353025226 + 3904.1551939033 * t);
-        Y0 += 0.00000000271 * Math.cos(2.28569018986 + 9745.5643733401 * t);
-        Y0 += 0.00000000321 * Math.cos(2.63356462069 + 38734.6221419491 * t);
-        Y0 += 0.00000000327 * Math.cos(1.40582630148 + 9359.84534697549 * t);
-        Y0 += 0.00000000264 * Math.cos(3.59015983869 + 76.50988875911 * t);
-        Y0 += 0.00000000310 * Math.cos(5.18631223131 + 27991.15799567649 * t);
-        Y0 += 0.00000000359 * Math.cos(1.81226579939 + 45585.4166296709 * t);
-        Y0 += 0.00000000326 * Math.cos(4.02012440588 + 633.0275567967 * t);
-        Y0 += 0.00000000314 * Math.cos(6.11319497702 + 20406.0395144131 * t);
-        Y0 += 0.00000000306 * Math.cos(5.83848348668 + 2957.9597119601 * t);
-        Y0 += 0.00000000266 * Math.cos(5.66163509794 + 8635.69818627969 * t);
-        Y0 += 0.00000000254 * Math.cos(4.06665609388 + 10681.49435404891 * t);
-        Y0 += 0.00000000343 * Math.cos(3.07216363987 + 8106.4948561521 * t);
-        Y0 += 0.00000000300 * Math.cos(2.55692274187 + 206.42936592071 * t);
-        Y0 += 0.00000000250 * Math.cos(4.61153598536 + 283.6155013817 * t);
-        Y0 += 0.00000000336 * Math.cos(2.25621229669 + 23581.0143598341 * t);
-        Y0 += 0.00000000236 * Math.cos(1.26632265704 + 10595.9382609507 * t);
-        Y0 += 0.00000000234 * Math.cos(2.24935612012 + 19624.9939787817 * t);
-        Y0 += 0.00000000255 * Math.cos(4.35467668425 + 213.0552779545 * t);
-        Y0 += 0.00000000281 * Math.cos(5.49571093835 + 9399.9790797347 * t);
-        Y0 += 0.00000000314 * Math.cos(2.13931899616 + 19786.42998862449 * t);
-        Y0 += 0.00000000229 * Math.cos(0.20297430947 + 574.10098085129 * t);
-        Y0 += 0.00000000295 * Math.cos(2.36600819373 + 31749.4790082099 * t);
-        Y0 += 0.00000000316 * Math.cos(4.02123996191 + 48739.6160795995 * t);
-        Y0 += 0.00000000229 * Math.cos(2.88588042648 + 949.4194264533 * t);
-        Y0 += 0.00000000229 * Math.cos(1.53780233055 + 19896.63630984389 * t);
-        Y0 += 0.00000000257 * Math.cos(3.32400213893 + 19360.3194327155 * t);
-        Y0 += 0.00000000231 * Math.cos(2.81577137220 + 9264.35375472471 * t);
-        Y0 += 0.00000000255 * Math.cos(2.46385009073 + 9993.1167212557 * t);
-        Y0 += 0.00000000255 * Math.cos(3.88844330305 + 10433.9420061333 * t);
-        Y0 += 0.00000000291 * Math.cos(2.32110551482 + 9999.7426332895 * t);
-        Y0 += 0.00000000285 * Math.cos(1.03940149360 + 34596.1208371689 * t);
-        Y0 += 0.00000000211 * Math.cos(4.89515362389 + 10249.55723037191 * t);
-        Y0 += 0.00000000211 * Math.cos(1.45713976989 + 10177.5014970171 * t);
-        Y0 += 0.00000000255 * Math.cos(0.85666215039 + 11027.07964765431 * t);
-        Y0 += 0.00000000220 * Math.cos(2.13302811409 + 37.7838551523 * t);
-        Y0 += 0.00000000280 * Math.cos(2.09663247440 + 37410.32342239509 * t);
-        Y0 += 0.00000000258 * Math.cos(3.69928540375 + 29573.6049789265 * t);
-        Y0 += 0.00000000247 * Math.cos(0.33730425769 + 29587.8320729281 * t);
-        Y0 += 0.00000000206 * Math.cos(1.80393013250 + 30426.8013606785 * t);
-        Y0 += 0.00000000263 * Math.cos(1.59050643196 + 20433.9284569063 * t);
-        Y0 += 0.00000000212 * Math.cos(1.58965720399 + 10206.9008047945 * t);
-        Y0 += 0.00000000212 * Math.cos(4.76263618979 + 10220.15792259451 * t);
-        Y0 += 0.00000000202 * Math.cos(5.53871102932 + 16894.7542170941 * t);
-        Y0 += 0.00000000272 * Math.cos(3.28012716441 + 12320.56387123691 * t);
-        Y0 += 0.00000000211 * Math.cos(3.54449702303 + 11162.7049726643 * t);
-        Y0 += 0.00000000197 * Math.cos(2.85538775435 + 8734.17515466309 * t);
-        Y0 += 0.00000000267 * Math.cos(2.72934257174 + 377.6174253993 * t);
-        Y0 += 0.00000000224 * Math.cos(1.78242794958 + 9051.05465928671 * t);
-        Y0 += 0.00000000186 * Math.cos(2.96624941532 + 10251.6623993323 * t);
-        Y0 += 0.00000000186 * Math.cos(3.38604397846 + 10175.3963280567 * t);
-        Y0 += 0.00000000258 * Math.cos(0.95259841698 + 9864.60494324651 * t);
-        Y0 += 0.00000000186 * Math.cos(3.20827310527 + 40077.8633910035 * t);
-        Y0 += 0.00000000233 * Math.cos(6.20481595696 + 29089.0552334685 * t);
-        Y0 += 0.00000000186 * Math.cos(3.29904519478 + 17272.1278250099 * t);
-        Y0 += 0.00000000254 * Math.cos(1.58851500083 + 19264.3402054977 * t);
-        Y0 += 0.00000000246 * Math.cos(5.39979351075 + 10562.4537841425 * t);
-        Y0 += 0.00000000211 * Math.cos(4.59175138406 + 11376.0040681023 * t);
-        Y0 += 0.00000000178 * Math.cos(5.22149503543 + 10949.4058772263 * t);
-        Y0 += 0.00000000178 * Math.cos(1.13079835835 + 9477.65285016271 * t);
-        Y0 += 0.00000000197 * Math.cos(5.67208275737 + 1692.40948698591 * t);
-        Y0 += 0.00000000177 * Math.cos(4.83529684993 + 20316.6085886861 * t);
-        Y0 += 0.00000000216 * Math.cos(4.13948146239 + 20452.6255947383 * t);
-        Y0 += 0.00000000197 * Math.cos(1.76173397564 + 9050.56702431969 * t);
-        Y0 += 0.00000000159 * Math.cos(5.88022204093 + 27197.5255111511 * t);
-        Y0 += 0.00000000167 * Math.cos(1.09928566241 + 4705.4884900601 * t);
-        Y0 += 0.00000000213 * Math.cos(3.70468670755 + 27511.2240560537 * t);
-        Y0 += 0.00000000154 * Math.cos(5.43597579906 + 10199.3022696929 * t);
-        Y0 += 0.00000000154 * Math.cos(0.91631759472 + 10227.7564576961 * t);
-        Y0 += 0.00000000174 * Math.cos(0.32803080161 + 14.47091148511 * t);
-        Y0 += 0.00000000209 * Math.cos(3.23046462275 + 10063.4785315929 * t);
-        Y0 += 0.00000000167 * Math.cos(5.14638326738 + 6872.42930202769 * t);
-        Y0 += 0.00000000185 * Math.cos(2.25428901814 + 9256.75257275689 * t);
-        Y0 += 0.00000000166 * Math.cos(2.18082507791 + 10263.2863891663 * t);
-        Y0 += 0.00000000166 * Math.cos(4.17146831587 + 10163.7723382227 * t);
-        Y0 += 0.00000000168 * Math.cos(0.62423658392 + 7991.18509413049 * t);
-        Y0 += 0.00000000174 * Math.cos(2.19758501900 + 9161.2609805061 * t);
-        Y0 += 0.00000000197 * Math.cos(1.87142263401 + 846.3266522347 * t);
-        Y0 += 0.00000000176 * Math.cos(6.26295125412 + 9779.32999085069 * t);
-        Y0 += 0.00000000198 * Math.cos(5.45633204029 + 52669.8257758191 * t);
-        Y0 += 0.00000000169 * Math.cos(4.14838568997 + 11265.7977468829 * t);
-        Y0 += 0.00000000188 * Math.cos(2.47639831966 + 38526.3305333885 * t);
-        Y0 += 0.00000000140 * Math.cos(5.67905778675 + 27991.6456306435 * t);
-        Y0 += 0.00000000194 * Math.cos(3.83921848765 + 8837.26792888169 * t);
-        Y0 += 0.00000000173 * Math.cos(2.87742322736 + 9793.5570848523 * t);
-        Y0 += 0.00000000140 * Math.cos(5.04268037408 + 10191.6785343681 * t);
-        Y0 += 0.00000000140 * Math.cos(1.30961301970 + 10235.3801930209 * t);
-        Y0 += 0.00000000196 * Math.cos(3.84465359273 + 1293.24040609909 * t);
-        Y0 += 0.00000000180 * Math.cos(5.95332595720 + 10021.5934626159 * t);
-        Y0 += 0.00000000138 * Math.cos(5.09734035169 + 10217.4615169576 * t);
-        Y0 += 0.00000000138 * Math.cos(1.25495304209 + 10209.5972104314 * t);
-        Y0 += 0.00000000148 * Math.cos(0.74425859729 + 19374.5465267171 * t);
-        Y0 += 0.00000000137 * Math.cos(2.37981976955 + 16522.9035334857 * t);
-        Y0 += 0.00000000143 * Math.cos(6.11571774821 + 20447.5903053979 * t);
-        Y0 += 0.00000000139 * Math.cos(1.01385118035 + 7255.3258342509 * t);
-        Y0 += 0.00000000126 * Math.cos(2.24994178665 + 20277.2517127709 * t);
-        Y0 += 0.00000000164 * Math.cos(3.22032043024 + 49515.6263258905 * t);
-        Y0 += 0.00000000149 * Math.cos(0.61484998961 + 10135.8555932665 * t);
-        Y0 += 0.00000000149 * Math.cos(5.73744340417 + 10291.20313412251 * t);
-        Y0 += 0.00000000118 * Math.cos(2.69846631523 + 4551.7096795753 * t);
-        Y0 += 0.00000000117 * Math.cos(5.64919068623 + 1582.2031657665 * t);
-        Y0 += 0.00000000151 * Math.cos(5.55480633210 + 10246.0619144859 * t);
-        Y0 += 0.00000000151 * Math.cos(0.79748706168 + 10180.99681290311 * t);
-        Y0 += 0.00000000152 * Math.cos(1.61196584184 + 39302.3407796795 * t);
-        Y0 += 0.00000000144 * Math.cos(2.25615309488 + 9986.0532309055 * t);
-        Y0 += 0.00000000144 * Math.cos(4.09614029890 + 10441.00549648351 * t);
-        Y0 += 0.00000000136 * Math.cos(0.51140220699 + 17469.0990154289 * t);
-        Y0 += 0.00000000119 * Math.cos(4.90022973272 + 20809.2238071617 * t);
-        Y0 += 0.00000000130 * Math.cos(4.00092308815 + 10236.3045651453 * t);
-        Y0 += 0.00000000130 * Math.cos(2.35137030563 + 10190.7541622437 * t);
-        Y0 += 0.00000000156 * Math.cos(2.62001496107 + 20388.6818742677 * t);
-        Y0 += 0.00000000132 * Math.cos(3.92998867218 + 9580.2579894143 * t);
-        Y0 += 0.00000000155 * Math.cos(5.57179178709 + 8238.0368178385 * t);
-        Y0 += 0.00000000142 * Math.cos(5.15510279625 + 31441.4337522733 * t);
-        Y0 += 0.00000000131 * Math.cos(0.68390506026 + 8101.39141534989 * t);
-        Y0 += 0.00000000133 * Math.cos(5.57627209730 + 24382.8352909579 * t);
-        Y0 += 0.00000000105 * Math.cos(5.80156791329 + 32858.36992533629 * t);
-        Y0 += 0.00000000105 * Math.cos(5.39190347848 + 1059.1381127057 * t);
-        Y0 += 0.00000000101 * Math.cos(2.78278015558 + 24978.7684069643 * t);
-        Y0 += 0.00000000126 * Math.cos(3.33415820026 + 22645.57201409229 * t);
-        Y0 += 0.00000000101 * Math.cos(3.69358080572 + 20043.9183776823 * t);
-        Y0 += 0.00000000110 * Math.cos(4.54705018597 + 43071.65547154729 * t);
-        Y0 += 0.00000000103 * Math.cos(2.03520456299 + 12431.79883291429 * t);
-        Y0 += 0.00000000136 * Math.cos(4.50608056956 + 5999.4603486097 * t);
-        Y0 += 0.00000000097 * Math.cos(5.63294739362 + 853.4401992355 * t);
-        Y0 += 0.00000000130 * Math.cos(1.64701005433 + 4176.2851599325 * t);
-        Y0 += 0.00000000113 * Math.cos(2.36571271909 + 19794.0311705923 * t);
-        Y0 += 0.00000000093 * Math.cos(0.77688953992 + 22645.08437912529 * t);
-        Y0 += 0.00000000124 * Math.cos(3.90067857109 + 42456.5402296081 * t);
-        Y0 += 0.00000000107 * Math.cos(5.87195741297 + 3.6883357796 * t);
-        Y0 += 0.00000000127 * Math.cos(1.97874545982 + 284.1031363487 * t);
-        Y0 += 0.00000000112 * Math.cos(0.89977181729 + 20206.4022674667 * t);
-        Y0 += 0.00000000097 * Math.cos(2.64537814089 + 78263.95324220609 * t);
-        Y0 += 0.00000000093 * Math.cos(1.80429347640 + 8204.4841895685 * t);
-        Y0 += 0.00000000127 * Math.cos(0.59683711488 + 56600.0354720387 * t);
-        Y0 += 0.00000000111 * Math.cos(6.25613029204 + 18830.14083265389 * t);
-        Y0 += 0.00000000098 * Math.cos(1.55452229557 + 11059.6121984457 * t);
-        Y0 += 0.00000000098 * Math.cos(4.79806616663 + 9367.4465289433 * t);
-        Y0 += 0.00000000103 * Math.cos(3.58160703323 + 10244.4434893295 * t);
-        Y0 += 0.00000000103 * Math.cos(2.77068636055 + 10182.6152380595 * t);
-        Y0 += 0.00000000111 * Math.cos(2.87167506517 + 18844.36792665549 * t);
-        Y0 += 0.00000000125 * Math.cos(0.78050482769 + 12189.0219095505 * t);
-        Y0 += 0.00000000088 * Math.cos(2.76213355426 + 20350.5488386299 * t);
-        Y0 += 0.00000000088 * Math.cos(0.86523706220 + 29058.1411078335 * t);
-        Y0 += 0.00000000096 * Math.cos(2.34258805293 + 2333.44021035551 * t);
-        Y0 += 0.00000000122 * Math.cos(3.86127135190 + 2636.9692901205 * t);
-        Y0 += 0.00000000087 * Math.cos(2.93183519168 + 8087.1643213483 * t);
-        Y0 += 0.00000000086 * Math.cos(5.21875976302 + 7034.8959381599 * t);
-        Y0 += 0.00000000095 * Math.cos(0.46006492106 + 10202.4836634306 * t);
-        Y0 += 0.00000000095 * Math.cos(5.89222847272 + 10224.5750639584 * t);
-        Y0 += 0.00000000084 * Math.cos(5.94038512576 + 10401.4545114571 * t);
-        Y0 += 0.00000000084 * Math.cos(0.41190826802 + 10025.6042159319 * t);
-        Y0 += 0.00000000085 * Math.cos(3.46647958947 + 19477.6393009357 * t);
-        Y0 += 0.00000000086 * Math.cos(6.05989445995 + 29864.0902098255 * t);
-        Y0 += 0.00000000099 * Math.cos(1.23143719760 + 2648.6986429565 * t);
-        Y0 += 0.00000000082 * Math.cos(5.76212222967 + 802.0647486073 * t);
-        Y0 += 0.00000000087 * Math.cos(2.17814642225 + 13745.10242153889 * t);
-        Y0 += 0.00000000081 * Math.cos(2.16717230933 + 1550.8014051645 * t);
-        Y0 += 0.00000000083 * Math.cos(4.61159603950 + 25933.8805136059 * t);
-        Y0 += 0.00000000079 * Math.cos(4.57245769213 + 44008.0730872231 * t);
-        Y0 += 0.00000000078 * Math.cos(4.54232413366 + 9573.6320773805 * t);
-        Y0 += 0.00000000098 * Math.cos(3.80111874017 + 20220.6293614683 * t);
-        Y0 += 0.00000000108 * Math.cos(5.23213365332 + 24149.8362338615 * t);
-        Y0 += 0.00000000100 * Math.cos(3.49984914654 + 1596.43025976811 * t);
-        Y0 += 0.00000000095 * Math.cos(1.78056312476 + 29477.6257517087 * t);
-        Y0 += 0.00000000078 * Math.cos(4.60961320788 + 205.9417309537 * t);
-        Y0 += 0.00000000096 * Math.cos(0.05074793120 + 30206.38871823969 * t);
-        Y0 += 0.00000000079 * Math.cos(5.65022966428 + 3340.36860921629 * t);
-        Y0 += 0.00000000095 * Math.cos(2.94692116655 + 30220.6158122413 * t);
-        Y0 += 0.00000000082 * Math.cos(3.38904287688 + 29043.91401383189 * t);
-        Y0 += 0.00000000077 * Math.cos(4.54577063518 + 17468.6113804619 * t);
-        Y0 += 0.00000000100 * Math.cos(2.86693803454 + 38500.5198485557 * t);
-        Y0 += 0.00000000107 * Math.cos(3.08328160895 + 2069.2506523901 * t);
-        Y0 += 0.00000000077 * Math.cos(2.01507273057 + 10853.4266500085 * t);
-        Y0 += 0.00000000087 * Math.cos(5.94217613191 + 5.2791068239 * t);
-        Y0 += 0.00000000076 * Math.cos(3.30386469943 + 10243.35080184331 * t);
-        Y0 += 0.00000000076 * Math.cos(3.04842869435 + 10183.7079255457 * t);
-        Y0 += 0.00000000076 * Math.cos(4.51338161700 + 956.53297345411 * t);
-        Y0 += 0.00000000100 * Math.cos(1.06850076905 + 28947.9347866141 * t);
-        Y0 += 0.00000000096 * Math.cos(0.14778409211 + 35371.6434484929 * t);
-        Y0 += 0.00000000073 * Math.cos(1.89720121846 + 17248.18148437089 * t);
-        Y0 += 0.00000000073 * Math.cos(0.27810624949 + 21001.1597082403 * t);
-        Y0 += 0.00000000081 * Math.cos(0.69044779243 + 18734.6492404031 * t);
-        Y0 += 0.00000000076 * Math.cos(3.94914583018 + 103.3365917021 * t);
-        Y0 += 0.00000000085 * Math.cos(0.56437212275 + 3914.71340755109 * t);
-        Y0 += 0.00000000074 * Math.cos(0.35341059185 + 8827.6340873583 * t);
-        Y0 += 0.00000000070 * Math.cos(6.20394049400 + 6298.57213865991 * t);
-        Y0 += 0.00000000087 * Math.cos(1.33961295133 + 33019.2649296881 * t);
-        Y0 += 0.00000000071 * Math.cos(2.38829288593 + 34172.1611489279 * t);
-        Y0 += 0.00000000079 * Math.cos(1.08839441675 + 10018.5579792339 * t);
-        Y0 += 0.00000000079 * Math.cos(5.26389897703 + 10408.5007481551 * t);
-        Y0 += 0.00000000069 * Math.cos(1.34393957743 + 33794.2999060451 * t);
-        Y0 += 0.00000000087 * Math.cos(3.11833451886 + 29050.53992586569 * t);
-        Y0 += 0.00000000069 * Math.cos(5.61698463903 + 41044.8342684391 * t);
-        Y0 += 0.00000000069 * Math.cos(0.68347421356 + 9644.7074896671 * t);
-        Y0 += 0.00000000069 * Math.cos(5.66881918022 + 10782.3512377219 * t);
-        Y0 += 0.00000000087 * Math.cos(0.75446196555 + 28313.0449871775 * t);
-        Y0 += 0.00000000085 * Math.cos(5.34847160578 + 46386.7499258277 * t);
-        Y0 += 0.00000000083 * Math.cos(4.22258770909 + 9721.86607123571 * t);
-        Y0 += 0.00000000083 * Math.cos(2.12970568469 + 10705.1926561533 * t);
-        Y0 += 0.00000000090 * Math.cos(3.61691095667 + 20049.4413019897 * t);
-        Y0 += 0.00000000064 * Math.cos(4.29241354560 + 9147.03388650451 * t);
-        Y0 += 0.00000000076 * Math.cos(5.76440554422 + 21486.1968400947 * t);
-        Y0 += 0.00000000085 * Math.cos(2.91506656251 + 19573.13089318649 * t);
-        Y0 += 0.00000000063 * Math.cos(3.18394429045 + 18314.67696156089 * t);
-        Y0 += 0.00000000071 * Math.cos(1.43323486518 + 1573.57660661529 * t);
-        Y0 += 0.00000000070 * Math.cos(0.75113063455 + 1580.6228433133 * t);
-        Y0 += 0.00000000080 * Math.cos(1.55502986811 + 39301.8531447125 * t);
-        Y0 += 0.00000000067 * Math.cos(2.05780765354 + 3956.2641985359 * t);
-        Y0 += 0.00000000087 * Math.cos(3.90828389301 + 29264.3266562707 * t);
-        Y0 += 0.00000000063 * Math.cos(4.94664274045 + 27461.46703058189 * t);
-        Y0 += 0.00000000070 * Math.cos(4.18407491369 + 1479.11039154791 * t);
-        Y0 += 0.00000000081 * Math.cos(1.62635438826 + 10205.92818172669 * t);
-        Y0 += 0.00000000080 * Math.cos(1.81036094537 + 38204.44354188749 * t);
-        Y0 += 0.00000000060 * Math.cos(6.06109901775 + 20421.2919855981 * t);
-        Y0 += 0.00000000064 * Math.cos(5.87371692529 + 18300.44986755929 * t);
-        Y0 += 0.00000000076 * Math.cos(2.36906935680 + 29683.81130014589 * t);
-        Y0 += 0.00000000082 * Math.cos(2.02061615739 + 60530.2451682583 * t);
-        Y0 += 0.00000000077 * Math.cos(4.62121260267 + 53445.8360221101 * t);
-        Y0 += 0.00000000062 * Math.cos(5.99888344180 + 11599.4246400307 * t);
-        Y0 += 0.00000000058 * Math.cos(1.51132330725 + 7576.8038910575 * t);
-        Y0 += 0.00000000057 * Math.cos(2.10835504837 + 11280.0248408845 * t);
-        Y0 += 0.00000000059 * Math.cos(5.97279707503 + 10255.0801546793 * t);
-        Y0 += 0.00000000059 * Math.cos(0.37949631875 + 10171.9785727097 * t);
-        Y0 += 0.00000000057 * Math.cos(2.49183550585 + 20464.84258254131 * t);
-        Y0 += 0.00000000079 * Math.cos(3.54945759635 + 10136.7756574519 * t);
-        Y0 += 0.00000000066 * Math.cos(3.91005081121 + 14169.5497447469 * t);
-        Y0 += 0.00000000063 * Math.cos(5.25828651967 + 18099.7594409665 * t);
-        Y0 += 0.00000000060 * Math.cos(1.62777565840 + 29786.9040743645 * t);
-        Y0 += 0.00000000064 * Math.cos(4.00075551038 + 30007.3167168033 * t);
-        Y0 += 0.00000000054 * Math.cos(2.10183945809 + 30666.3987759163 * t);
-        Y0 += 0.00000000058 * Math.cos(1.48653920785 + 75449.7506569799 * t);
-        Y0 += 0.00000000073 * Math.cos(2.27987689949 + 51449.5680807617 * t);
-        Y0 += 0.00000000074 * Math.cos(3.91378496364 + 21720.2991334881 * t);
-        Y0 += 0.00000000063 * Math.cos(1.10572404909 + 26736.1890796967 * t);
-        Y0 += 0.00000000054 * Math.cos(2.34430307252 + 38204.9311768545 * t);
-        Y0 += 0.00000000072 * Math.cos(2.90060717525 + 100608.3523767453 * t);
-        Y0 += 0.00000000053 * Math.cos(2.23725068823 + 419.72846135871 * t);
-        Y0 += 0.00000000052 * Math.cos(0.52183347499 + 40426.7878114515 * t);
-        Y0 += 0.00000000052 * Math.cos(1.02206221481 + 29580.23089096029 * t);
-        Y0 += 0.00000000053 * Math.cos(2.81130934606 + 419.2408263917 * t);
-        Y0 += 0.00000000058 * Math.cos(6.02426265881 + 20412.5878159039 * t);
-        Y0 += 0.00000000054 * Math.cos(4.83322053510 + 9366.9588939763 * t);
-        Y0 += 0.00000000055 * Math.cos(5.16439912672 + 9103.6631766341 * t);
-        Y0 += 0.00000000050 * Math.cos(0.80815973951 + 34570.3101523361 * t);
-        Y0 += 0.00000000067 * Math.cos(4.21574061370 + 632.5399218297 * t);
-        Y0 += 0.00000000050 * Math.cos(2.75084153641 + 37724.5096022647 * t);
-        Y0 += 0.00000000069 * Math.cos(3.30376299828 + 53284.94101775829 * t);
-        Y0 += 0.00000000057 * Math.cos(3.46902641065 + 8307.5769637871 * t);
-        Y0 += 0.00000000050 * Math.cos(6.26940117566 + 8417.7832850065 * t);
-        Y0 += 0.00000000049 * Math.cos(3.48884514281 + 26087.65932409069 * t);
-        Y0 += 0.00000000064 * Math.cos(0.45737297425 + 7064.3652031063 * t);
-        Y0 += 0.00000000049 * Math.cos(0.14582053812 + 14128.4865887291 * t);
-        Y0 += 0.00000000056 * Math.cos(0.66365909742 + 28418.2438215195 * t);
-        Y0 += 0.00000000066 * Math.cos(4.48087077585 + 19580.7320751543 * t);
-        Y0 += 0.00000000047 * Math.cos(4.50934828666 + 10742.73269382209 * t);
-        Y0 += 0.00000000061 * Math.cos(2.99027576045 + 43232.0628409321 * t);
-        Y0 += 0.00000000061 * Math.cos(2.99027576045 + 43232.5504758991 * t);
-        Y0 += 0.00000000047 * Math.cos(3.24772943759 + 38741.7356889499 * t);
-        Y0 += 0.00000000050 * Math.cos(6.05228449513 + 59161.1932343711 * t);
-        Y0 += 0.00000000046 * Math.cos(0.66057761892 + 18844.8555616225 * t);
-        Y0 += 0.00000000054 * Math.cos(5.40667573437 + 48947.9076881601 * t);
-        Y0 += 0.00000000046 * Math.cos(3.06762447182 + 3154.9309023791 * t);
-        Y0 += 0.00000000046 * Math.cos(5.78250179315 + 194.7275669771 * t);
-        Y0 += 0.00000000056 * Math.cos(5.79105836654 + 9936.7835918301 * t);
-        Y0 += 0.00000000056 * Math.cos(0.56123502724 + 10490.27513555891 * t);
-        Y0 += 0.00000000054 * Math.cos(2.92585194345 + 9922.5564978285 * t);
-        Y0 += 0.00000000054 * Math.cos(3.42644145033 + 10504.50222956051 * t);
-        Y0 += 0.00000000059 * Math.cos(3.58503267144 + 18204.47064034149 * t);
-        Y0 += 0.00000000048 * Math.cos(5.93973568185 + 38727.5085949483 * t);
-        Y0 += 0.00000000057 * Math.cos(0.49036750604 + 50316.9596220473 * t);
-        Y0 += 0.00000000061 * Math.cos(4.41585090977 + 10140.2322378355 * t);
-        Y0 += 0.00000000061 * Math.cos(1.93644248401 + 10286.8264895535 * t);
-        Y0 += 0.00000000061 * Math.cos(5.28414092980 + 6567.1789863401 * t);
-        Y0 += 0.00000000048 * Math.cos(1.78116904393 + 9246.5584862589 * t);
-        Y0 += 0.00000000060 * Math.cos(4.34124861578 + 3684.1342325067 * t);
-        Y0 += 0.00000000060 * Math.cos(1.84622131041 + 14427.5983787793 * t);
-        Y0 += 0.00000000051 * Math.cos(3.86708252316 + 47623.60896860609 * t);
-        Y0 += 0.00000000051 * Math.cos(0.71903454294 + 9566.03089541269 * t);
-        Y0 += 0.00000000052 * Math.cos(1.63231256422 + 8727.0616076623 * t);
-        Y0 += 0.00000000057 * Math.cos(2.19171070766 + 32243.2546833971 * t);
-        Y0 += 0.00000000048 * Math.cos(0.48328683640 + 433.9555553603 * t);
-        Y0 += 0.00000000045 * Math.cos(3.95006454295 + 10263.5259855987 * t);
-        Y0 += 0.00000000045 * Math.cos(2.40222885083 + 10163.53274179031 * t);
-        Y0 += 0.00000000049 * Math.cos(0.08548300777 + 9794.6049647939 * t);
-        Y0 += 0.00000000049 * Math.cos(6.26681038600 + 10632.45376259511 * t);
-        Y0 += 0.00000000058 * Math.cos(1.48111021336 + 1860.95904382949 * t);
-        Y0 += 0.00000000047 * Math.cos(6.22156178529 + 20142.9555910403 * t);
-        Y0 += 0.00000000046 * Math.cos(3.81317535217 + 2349.5868529063 * t);
-        Y0 += 0.00000000044 * Math.cos(0.47724556879 + 30632.98690911569 * t);
-        Y0 += 0.00000000046 * Math.cos(3.13107041429 + 2356.63308960431 * t);
-        Y0 += 0.00000000041 * Math.cos(4.84096981140 + 12850.2548363315 * t);
-        Y0 += 0.00000000041 * Math.cos(0.14576799491 + 8094.7655033161 * t);
-        Y0 += 0.00000000042 * Math.cos(3.51225043090 + 77802.6168107517 * t);
-        Y0 += 0.00000000042 * Math.cos(1.24107185058 + 25132.5472174491 * t);
-        Y0 += 0.00000000043 * Math.cos(3.94226686000 + 19359.83179774849 * t);
-        Y0 += 0.00000000040 * Math.cos(5.46575824362 + 10192.2663332351 * t);
-        Y0 += 0.00000000042 * Math.cos(1.71742433091 + 34363.6094150395 * t);
-        Y0 += 0.00000000039 * Math.cos(5.92169473585 + 109.9625037359 * t);
-        Y0 += 0.00000000044 * Math.cos(2.89783948131 + 79379.96035319949 * t);
-        Y0 += 0.00000000043 * Math.cos(5.95822352823 + 38734.13450698209 * t);
-        Y0 += 0.00000000046 * Math.cos(5.13701973505 + 17778.3600844325 * t);
-        Y0 += 0.00000000039 * Math.cos(1.30600974103 + 12565.9078824993 * t);
-        Y0 += 0.00000000041 * Math.cos(1.87488507902 + 27681.89692667289 * t);
-        Y0 += 0.00000000053 * Math.cos(3.44448984210 + 64460.4548644779 * t);
-        Y0 += 0.00000000039 * Math.cos(1.87347006255 + 28631.5429169575 * t);
-        Y0 += 0.00000000052 * Math.cos(3.63883543733 + 38631.5293677305 * t);
-        Y0 += 0.00000000043 * Math.cos(4.57112425738 + 11180.5002411301 * t);
-        Y0 += 0.00000000039 * Math.cos(5.73477931992 + 1265.81129610991 * t);
-        Y0 += 0.00000000039 * Math.cos(5.37998455046 + 7879.84533585549 * t);
-        Y0 += 0.00000000039 * Math.cos(5.37998455046 + 7880.3329708225 * t);
-        Y0 += 0.00000000052 * Math.cos(0.42370802477 + 1.7282901918 * t);
-        Y0 += 0.00000000039 * Math.cos(5.18684094963 + 54981.6287735731 * t);
-        Y0 += 0.00000000047 * Math.cos(0.18137418769 + 187.68133027909 * t);
-        Y0 += 0.00000000044 * Math.cos(5.88330364964 + 10168.3881440579 * t);
-        Y0 += 0.00000000044 * Math.cos(0.46898974414 + 10258.67058333111 * t);
-        Y0 += 0.00000000048 * Math.cos(3.11428064716 + 10063.9661665599 * t);
-        Y0 += 0.00000000043 * Math.cos(0.40920515062 + 22029.9691371861 * t);
-        Y0 += 0.00000000051 * Math.cos(4.32233625991 + 104538.56207296489 * t);
-        Y0 += 0.00000000051 * Math.cos(4.70514324366 + 16250.7735674565 * t);
-        Y0 += 0.00000000037 * Math.cos(2.91614118281 + 29161.2338820521 * t);
-        Y0 += 0.00000000043 * Math.cos(3.35259007747 + 10363.09256082911 * t);
-        Y0 += 0.00000000038 * Math.cos(2.56509414217 + 47917.5073879503 * t);
-        Y0 += 0.00000000049 * Math.cos(6.13351350993 + 66037.79840692569 * t);
-        Y0 += 0.00000000037 * Math.cos(2.84218465987 + 6257.0213476751 * t);
-        Y0 += 0.00000000036 * Math.cos(1.39948703899 + 8674.2134938825 * t);
-        Y0 += 0.00000000045 * Math.cos(3.57903060172 + 522.3336006103 * t);
-        Y0 += 0.00000000049 * Math.cos(0.39199067732 + 491.9071099423 * t);
-        Y0 += 0.00000000042 * Math.cos(1.38184413529 + 115674.52048208468 * t);
-        Y0 += 0.00000000040 * Math.cos(1.35149502784 + 10233.8171242199 * t);
-        Y0 += 0.00000000036 * Math.cos(5.98817728846 + 47938.2827834427 * t);
-        Y0 += 0.00000000035 * Math.cos(1.18237114499 + 12546.72575656651 * t);
-        Y0 += 0.00000000048 * Math.cos(1.34137746528 + 90395.0668305343 * t);
-        Y0 += 0.00000000040 * Math.cos(4.18858105636 + 14127.99895376209 * t);
-        Y0 += 0.00000000044 * Math.cos(2.73569081007 + 9698.0654926015 * t);
-        Y0 += 0.00000000044 * Math.cos(3.61660258371 + 10728.99323478751 * t);
-        Y0 += 0.00000000036 * Math.cos(0.66588479818 + 69942.1974183125 * t);
-        Y0 += 0.00000000035 * Math.cos(4.16647411013 + 41654.71929848429 * t);
-        Y0 += 0.00000000034 * Math.cos(2.69446692279 + 55798.7021758819 * t);
-        Y0 += 0.00000000037 * Math.cos(1.68139810641 + 35192.0539531753 * t);
-        Y0 += 0.00000000046 * Math.cos(1.33857194026 + 36301.4325052687 * t);
-        Y0 += 0.00000000047 * Math.cos(6.19310388781 + 86464.85713431469 * t);
-        Y0 += 0.00000000035 * Math.cos(0.73574096610 + 48732.98752069949 * t);
-        Y0 += 0.00000000035 * Math.cos(3.22135299939 + 10011.2759685204 * t);
-        Y0 += 0.00000000035 * Math.cos(3.13094039439 + 10415.78275886861 * t);
-        Y0 += 0.00000000034 * Math.cos(4.60818788188 + 37410.8110573621 * t);
-        Y0 += 0.00000000033 * Math.cos(3.80929053875 + 49477.59865325469 * t);
-        Y0 += 0.00000000042 * Math.cos(2.82864954668 + 18830.6284676209 * t);
-        Y0 += 0.00000000035 * Math.cos(0.56308161765 + 49515.1386909235 * t);
-        Y0 += 0.00000000047 * Math.cos(2.22431731848 + 31022.50935337269 * t);
-        Y0 += 0.00000000034 * Math.cos(3.32920660018 + 100909.28143881488 * t);
-        Y0 += 0.00000000033 * Math.cos(2.17810098111 + 10117.5501364767 * t);
-        Y0 += 0.00000000033 * Math.cos(4.17419241267 + 10309.5085909123 * t);
-        Y0 += 0.00000000034 * Math.cos(0.22454658153 + 7461.49412903589 * t);
-        Y0 += 0.00000000034 * Math.cos(5.44249373293 + 45584.9289947039 * t);
-        Y0 += 0.00000000032 * Math.cos(1.67235375803 + 9676.23721663209 * t);
-        Y0 += 0.00000000039 * Math.cos(1.15429612014 + 316.6356871401 * t);
-        Y0 += 0.00000000033 * Math.cos(6.02812295236 + 31748.99137324289 * t);
-        Y0 += 0.00000000031 * Math.cos(1.87708120179 + 30103.29594402109 * t);
-        Y0 += 0.00000000035 * Math.cos(5.77132581087 + 58946.27306691049 * t);
-        Y0 += 0.00000000032 * Math.cos(2.19359308367 + 21977.8601325535 * t);
-        Y0 += 0.00000000036 * Math.cos(5.94106521859 + 20430.7470631686 * t);
-        Y0 += 0.00000000032 * Math.cos(4.93495818843 + 81732.82650697129 * t);
-        Y0 += 0.00000000030 * Math.cos(0.70932860715 + 19573.6185281535 * t);
-        Y0 += 0.00000000031 * Math.cos(0.91919649284 + 11.2895177474 * t);
-        Y0 += 0.00000000038 * Math.cos(0.23287825442 + 20617.77554105009 * t);
-        Y0 += 0.00000000033 * Math.cos(4.31035022066 + 83310.1700494191 * t);
-        Y0 += 0.00000000029 * Math.cos(4.95280669313 + 11752.8452335065 * t);
-        Y0 += 0.00000000029 * Math.cos(3.94608385223 + 9801.1582668201 * t);
-        Y0 += 0.00000000029 * Math.cos(2.40620954155 + 10625.9004605689 * t);
-        Y0 += 0.00000000030 * Math.cos(2.05100908229 + 20432.3378342129 * t);
-        Y0 += 0.00000000031 * Math.cos(3.37186993722 + 7255.8134692179 * t);
-        Y0 += 0.00000000029 * Math.cos(5.98151124473 + 9889.53631207009 * t);
-        Y0 += 0.00000000029 * Math.cos(0.20516018454 + 224.5886131854 * t);
-        Y0 += 0.00000000028 * Math.cos(4.98574596975 + 10099.09007500929 * t);
-        Y0 += 0.00000000028 * Math.cos(1.36654742403 + 10327.96865237972 * t);
-        Y0 += 0.00000000037 * Math.cos(1.58092203649 + 47964.0934682755 * t);
-        Y0 += 0.00000000029 * Math.cos(3.50171158414 + 10426.3408241655 * t);
-        Y0 += 0.00000000034 * Math.cos(2.65907611892 + 1539.5596872955 * t);
-        Y0 += 0.00000000039 * Math.cos(3.61856411890 + 30563.8343848409 * t);
-        Y0 += 0.00000000039 * Math.cos(2.90348082239 + 5791.16874004909 * t);
-        Y0 += 0.00000000028 * Math.cos(0.72410945645 + 1178.9507215561 * t);
-        Y0 += 0.00000000031 * Math.cos(3.89571253711 + 39786.8905251375 * t);
-        Y0 += 0.00000000028 * Math.cos(2.08869873285 + 73872.40711453209 * t);
-        Y0 += 0.00000000027 * Math.cos(2.10097762457 + 9411.22079760369 * t);
-        Y0 += 0.00000000028 * Math.cos(5.13153492293 + 15694.7842825621 * t);
-        Y0 += 0.00000000034 * Math.cos(2.10776670451 + 40213.4887160135 * t);
-        Y0 += 0.00000000037 * Math.cos(2.87146864607 + 36949.4746259077 * t);
-        Y0 += 0.00000000035 * Math.cos(1.99221623651 + 37704.2218417393 * t);
-        Y0 += 0.00000000028 * Math.cos(4.41249255504 + 4732.2744448269 * t);
-        Y0 += 0.00000000037 * Math.cos(1.06810151543 + 13859.8797410489 * t);
-        Y0 += 0.00000000035 * Math.cos(4.29368361875 + 18093.13088206649 * t);
-        Y0 += 0.00000000035 * Math.cos(4.29368361875 + 18093.6185170335 * t);
-        Y0 += 0.00000000031 * Math.cos(1.42888574956 + 42430.7295447753 * t);
-        Y0 += 0.00000000026 * Math.cos(2.52843792658 + 8734.6627896301 * t);
-        Y0 += 0.00000000028 * Math.cos(3.49562374283 + 7886.4738947555 * t);
-        Y0 += 0.00000000031 * Math.cos(1.84284071261 + 25960.1788334057 * t);
-        return Y0;
-    }
-
-    static double Y1(double t) // 406 terms of order 1
-    {
-        double Y1 = 0;
-        Y1 += 0.00051880979 * Math.cos(0.71095646371 + 0.2438174835 * t);
-        Y1 += 0.00017260820 * Math.cos(5.63797390819 + 20426.8149099055 * t);
-        Y1 += 0.00011049864 * Math.cos(3.60540297803 + 10213.0417287275 * t);
-        Y1 += 0.00004831725 * Math.cos(3.20542321593 + 10213.5293636945 * t);
-        Y1 += 0.00000175352 * Math.cos(0.23521252264 + 30640.1004561165 * t);
-        Y1 += 0.00000060293 * Math.cos(3.35720999584 + 8636.18582124671 * t);
-        Y1 += 0.00000062982 * Math.cos(0.52034329307 + 10187.2310438947 * t);
-        Y1 += 0.00000062707 * Math.cos(5.83097900617 + 10239.8276834943 * t);
-        Y1 += 0.00000049342 * Math.cos(3.00369011281 + 11790.8729061423 * t);
-        Y1 += 0.00000036826 * Math.cos(0.49986531697 + 775.7664288075 * t);
-        Y1 += 0.00000039689 * Math.cos(4.87663392982 + 20426.32727493849 * t);
-        Y1 += 0.00000030101 * Math.cos(3.75628445251 + 10022.0810975829 * t);
-        Y1 += 0.00000029330 * Math.cos(2.59462276840 + 10404.9776298061 * t);
-        Y1 += 0.00000019990 * Math.cos(5.87132108056 + 9438.0067523705 * t);
-        Y1 += 0.00000017877 * Math.cos(0.50656677315 + 10989.0519750185 * t);
-        Y1 += 0.00000014175 * Math.cos(2.13477380875 + 9683.8383985999 * t);
-        Y1 += 0.00000013388 * Math.cos(2.90924092450 + 191.2044486281 * t);
-        Y1 += 0.00000013513 * Math.cos(4.20262757897 + 10743.2203287891 * t);
-        Y1 += 0.00000014034 * Math.cos(1.92852680423 + 4705.9761250271 * t);
-        Y1 += 0.00000013385 * Math.cos(5.86252489050 + 19651.2922985815 * t);
-        Y1 += 0.00000006873 * Math.cos(3.26551570952 + 9104.1508116011 * t);
-        Y1 += 0.00000007547 * Math.cos(4.00471700687 + 1059.6257476727 * t);
-        Y1 += 0.00000007388 * Math.cos(4.42957705498 + 15721.0826023619 * t);
-        Y1 += 0.00000005971 * Math.cos(3.08667185392 + 11322.9079157879 * t);
-        Y1 += 0.00000005966 * Math.cos(5.81970120815 + 10220.6429106953 * t);
-        Y1 += 0.00000005965 * Math.cos(0.53310334979 + 10206.4158166937 * t);
-        Y1 += 0.00000005155 * Math.cos(4.06691487180 + 3154.4432674121 * t);
-        Y1 += 0.00000004571 * Math.cos(3.01985951758 + 20618.2631760171 * t);
-        Y1 += 0.00000004246 * Math.cos(4.48337967211 + 10000.23026825651 * t);
-        Y1 += 0.00000004157 * Math.cos(1.86902016050 + 10426.8284591325 * t);
-        Y1 += 0.00000004649 * Math.cos(1.29491136363 + 9830.6328314713 * t);
-        Y1 += 0.00000004431 * Math.cos(5.05738488158 + 10596.4258959177 * t);
-        Y1 += 0.00000003938 * Math.cos(5.07016509425 + 7.3573644843 * t);
-        Y1 += 0.00000003399 * Math.cos(0.82461824896 + 7860.6632099227 * t);
-        Y1 += 0.00000002758 * Math.cos(2.34021605546 + 19367.4329797163 * t);
-        Y1 += 0.00000002699 * Math.cos(5.36901161259 + 7058.8422787989 * t);
-        Y1 += 0.00000002515 * Math.cos(0.93953422896 + 8623.96883344369 * t);
-        Y1 += 0.00000002725 * Math.cos(0.25399973919 + 801.5771136403 * t);
-        Y1 += 0.00000002539 * Math.cos(4.39873985192 + 9411.7084325707 * t);
-        Y1 += 0.00000001822 * Math.cos(4.89709335392 + 1109.1347346099 * t);
-        Y1 += 0.00000002300 * Math.cos(1.94517236646 + 11015.3502948183 * t);
-        Y1 += 0.00000001816 * Math.cos(0.95974773242 + 13368.2164485901 * t);
-        Y1 += 0.00000001814 * Math.cos(3.28732569612 + 3930.4535137031 * t);
-        Y1 += 0.00000001586 * Math.cos(1.12226291927 + 40853.3860023275 * t);
-        Y1 += 0.00000001999 * Math.cos(4.09704295416 + 26.0545023163 * t);
-        Y1 += 0.00000001745 * Math.cos(0.69413221331 + 4552.1973145423 * t);
-        Y1 += 0.00000001503 * Math.cos(5.35238315560 + 12566.3955174663 * t);
-        Y1 += 0.00000001446 * Math.cos(5.48745108690 + 7084.6529636317 * t);
-        Y1 += 0.00000001400 * Math.cos(4.67651135088 + 11272.91129388371 * t);
-        Y1 += 0.00000001282 * Math.cos(3.09230484373 + 10219.0522880019 * t);
-        Y1 += 0.00000001282 * Math.cos(3.25998855005 + 10208.0064393871 * t);
-        Y1 += 0.00000001352 * Math.cos(1.29314419649 + 20419.7013629047 * t);
-        Y1 += 0.00000001475 * Math.cos(4.11277346234 + 3128.6325825793 * t);
-        Y1 += 0.00000001235 * Math.cos(0.55003403789 + 1577.5873599313 * t);
-        Y1 += 0.00000001286 * Math.cos(4.12341945563 + 23581.5019948011 * t);
-        Y1 += 0.00000001283 * Math.cos(5.45488591011 + 382.6527147397 * t);
-        Y1 += 0.00000001171 * Math.cos(1.71768767831 + 9154.1474335053 * t);
-        Y1 += 0.00000001084 * Math.cos(2.78444751991 + 10198.2768925095 * t);
-        Y1 += 0.00000001084 * Math.cos(3.56784587387 + 10228.78183487951 * t);
-        Y1 += 0.00000001198 * Math.cos(3.38905914109 + 16496.6052136859 * t);
-        Y1 += 0.00000000869 * Math.cos(3.97005901207 + 2352.6223362883 * t);
-        Y1 += 0.00000001112 * Math.cos(4.99559909082 + 1589.3167127673 * t);
-        Y1 += 0.00000000922 * Math.cos(5.66846628682 + 15874.8614128467 * t);
-        Y1 += 0.00000000743 * Math.cos(5.39400352278 + 28287.2343023447 * t);
-        Y1 += 0.00000000746 * Math.cos(0.58295457724 + 3149.4079780717 * t);
-        Y1 += 0.00000000797 * Math.cos(3.54113611340 + 426.8420083595 * t);
-        Y1 += 0.00000000625 * Math.cos(1.61452093926 + 20400.5165901057 * t);
-        Y1 += 0.00000000615 * Math.cos(4.93517817028 + 21536.1934619989 * t);
-        Y1 += 0.00000000832 * Math.cos(0.35357361779 + 21228.63584102931 * t);
-        Y1 += 0.00000000656 * Math.cos(0.63035969025 + 11014.8626598513 * t);
-        Y1 += 0.00000000586 * Math.cos(0.59640409991 + 5661.5758666357 * t);
-        Y1 += 0.00000000648 * Math.cos(0.34210160772 + 537.0483295789 * t);
-        Y1 += 0.00000000674 * Math.cos(0.56456739745 + 8094.2778683491 * t);
-        Y1 += 0.00000000636 * Math.cos(4.96350573817 + 18849.4713674577 * t);
-        Y1 += 0.00000000655 * Math.cos(2.23854746047 + 17298.4261448097 * t);
-        Y1 += 0.00000000615 * Math.cos(0.82332897293 + 522.8212355773 * t);
-        Y1 += 0.00000000507 * Math.cos(5.26511211265 + 20453.1132297053 * t);
-        Y1 += 0.00000000451 * Math.cos(3.55775064489 + 32217.4439985643 * t);
-        Y1 += 0.00000000480 * Math.cos(4.03262150754 + 529.44714761109 * t);
-        Y1 += 0.00000000439 * Math.cos(5.33608025421 + 6282.83203250789 * t);
-        Y1 += 0.00000000439 * Math.cos(1.01049396969 + 29051.0275608327 * t);
-        Y1 += 0.00000000410 * Math.cos(3.89856473824 + 24357.0246061251 * t);
-        Y1 += 0.00000000452 * Math.cos(5.33295391690 + 9146.54625153749 * t);
-        Y1 += 0.00000000417 * Math.cos(3.34912055717 + 6681.46867088311 * t);
-        Y1 += 0.00000000434 * Math.cos(4.87041677173 + 9160.77334553909 * t);
-        Y1 += 0.00000000364 * Math.cos(1.14500385840 + 10640.1275545705 * t);
-        Y1 += 0.00000000363 * Math.cos(5.18731183247 + 9786.9311728185 * t);
-        Y1 += 0.00000000428 * Math.cos(5.53178842562 + 20809.7114421287 * t);
-        Y1 += 0.00000000440 * Math.cos(0.90299311231 + 9690.9519456007 * t);
-        Y1 += 0.00000000440 * Math.cos(5.44930026371 + 10736.1067817883 * t);
-        Y1 += 0.00000000372 * Math.cos(5.21504043865 + 10251.55703633031 * t);
-        Y1 += 0.00000000372 * Math.cos(1.13725295513 + 10175.5016910587 * t);
-        Y1 += 0.00000000319 * Math.cos(5.77038175361 + 17277.6507493173 * t);
-        Y1 += 0.00000000427 * Math.cos(1.38502821135 + 18837.7420146217 * t);
-        Y1 += 0.00000000319 * Math.cos(1.75892023078 + 7860.17557495569 * t);
-        Y1 += 0.00000000303 * Math.cos(5.78500325867 + 14765.48286075331 * t);
-        Y1 += 0.00000000351 * Math.cos(0.93732183183 + 6490.0204047715 * t);
-        Y1 += 0.00000000287 * Math.cos(1.70533444360 + 1577.0997249643 * t);
-        Y1 += 0.00000000318 * Math.cos(2.05196802231 + 14945.0723560709 * t);
-        Y1 += 0.00000000297 * Math.cos(5.78070702462 + 10233.1991245943 * t);
-        Y1 += 0.00000000297 * Math.cos(0.57158636916 + 10193.85960279471 * t);
-        Y1 += 0.00000000372 * Math.cos(4.36086070254 + 22004.1584523533 * t);
-        Y1 += 0.00000000311 * Math.cos(2.86660649993 + 9683.35076363289 * t);
-        Y1 += 0.00000000284 * Math.cos(0.78946184560 + 3442.81876244891 * t);
-        Y1 += 0.00000000269 * Math.cos(2.73302271647 + 9573.14444241349 * t);
-        Y1 += 0.00000000262 * Math.cos(1.65344694622 + 21202.3375212295 * t);
-        Y1 += 0.00000000285 * Math.cos(2.99593464960 + 13745.5900565059 * t);
-        Y1 += 0.00000000276 * Math.cos(6.13791366947 + 9676.7248515991 * t);
-        Y1 += 0.00000000289 * Math.cos(4.21532854719 + 20235.36664379391 * t);
-        Y1 += 0.00000000263 * Math.cos(4.06023282629 + 22779.6810636773 * t);
-        Y1 += 0.00000000280 * Math.cos(3.52465276935 + 14919.2616712381 * t);
-        Y1 += 0.00000000262 * Math.cos(0.23413334905 + 10750.33387578991 * t);
-        Y1 += 0.00000000256 * Math.cos(2.84423020029 + 10234.3047591869 * t);
-        Y1 += 0.00000000239 * Math.cos(3.17649373533 + 5507.7970561509 * t);
-        Y1 += 0.00000000253 * Math.cos(3.50443427097 + 10192.7539682021 * t);
-        Y1 += 0.00000000268 * Math.cos(5.52795627850 + 27511.7116910207 * t);
-        Y1 += 0.00000000282 * Math.cos(1.52617460595 + 4731.7868098599 * t);
-        Y1 += 0.00000000232 * Math.cos(5.81477929300 + 3723.26514143949 * t);
-        Y1 += 0.00000000285 * Math.cos(3.95599071883 + 20956.5058750001 * t);
-        Y1 += 0.00000000244 * Math.cos(2.32200831696 + 2353.1099712553 * t);
-        Y1 += 0.00000000272 * Math.cos(2.82574902606 + 20000.2167190295 * t);
-        Y1 += 0.00000000254 * Math.cos(3.11073677155 + 6283.3196674749 * t);
-        Y1 += 0.00000000238 * Math.cos(6.06399121577 + 30639.61282114949 * t);
-        Y1 += 0.00000000232 * Math.cos(6.01167584587 + 19890.0103978101 * t);
-        Y1 += 0.00000000210 * Math.cos(3.33764904887 + 18073.46112116669 * t);
-        Y1 += 0.00000000216 * Math.cos(3.19588337312 + 18073.9487561337 * t);
-        Y1 += 0.00000000199 * Math.cos(5.04355472771 + 9639.18456535971 * t);
-        Y1 += 0.00000000218 * Math.cos(5.53074261320 + 19904.2374918117 * t);
-        Y1 += 0.00000000225 * Math.cos(5.41510051366 + 13937.0383226175 * t);
-        Y1 += 0.00000000235 * Math.cos(1.73003777450 + 1551.2890401315 * t);
-        Y1 += 0.00000000191 * Math.cos(2.76287874160 + 6872.91693699471 * t);
-        Y1 += 0.00000000179 * Math.cos(4.84535687472 + 30110.4094910219 * t);
-        Y1 += 0.00000000185 * Math.cos(1.30870554546 + 10787.8741620293 * t);
-        Y1 += 0.00000000235 * Math.cos(1.24541538744 + 1066.7392946735 * t);
-        Y1 += 0.00000000208 * Math.cos(4.04763155841 + 10007.3438152573 * t);
-        Y1 += 0.00000000208 * Math.cos(2.30466183537 + 10419.7149121317 * t);
-        Y1 += 0.00000000179 * Math.cos(3.50084200533 + 18875.2820522905 * t);
-        Y1 += 0.00000000184 * Math.cos(0.09028649493 + 9967.69771746511 * t);
-        Y1 += 0.00000000166 * Math.cos(3.49629785102 + 18307.56341456009 * t);
-        Y1 += 0.00000000163 * Math.cos(3.38894514289 + 10225.2587165305 * t);
-        Y1 += 0.00000000163 * Math.cos(2.96334825089 + 10201.80001085851 * t);
-        Y1 += 0.00000000156 * Math.cos(4.49619634182 + 10316.6221379131 * t);
-        Y1 += 0.00000000156 * Math.cos(1.85609705196 + 10110.4365894759 * t);
-        Y1 += 0.00000000178 * Math.cos(6.26185121103 + 10459.3610099239 * t);
-        Y1 += 0.00000000172 * Math.cos(2.71508119650 + 14143.7390599141 * t);
-        Y1 += 0.00000000163 * Math.cos(4.90813788389 + 8616.85528644289 * t);
-        Y1 += 0.00000000163 * Math.cos(5.91344954982 + 6.86972951729 * t);
-        Y1 += 0.00000000157 * Math.cos(3.58488866748 + 13554.1417903943 * t);
-        Y1 += 0.00000000152 * Math.cos(3.62017418311 + 640.1411037975 * t);
-        Y1 += 0.00000000149 * Math.cos(6.16738885127 + 7063.87756813929 * t);
-        Y1 += 0.00000000179 * Math.cos(1.00591554381 + 29864.5778447925 * t);
-        Y1 += 0.00000000140 * Math.cos(5.31441141872 + 8631.0823804445 * t);
-        Y1 += 0.00000000140 * Math.cos(6.19029890817 + 529.9347825781 * t);
-        Y1 += 0.00000000131 * Math.cos(2.45194876830 + 9794.0447198193 * t);
-        Y1 += 0.00000000170 * Math.cos(3.49470295745 + 9153.6597985383 * t);
-        Y1 += 0.00000000128 * Math.cos(3.89903128812 + 10633.0140075697 * t);
-        Y1 += 0.00000000177 * Math.cos(3.03845859741 + 5481.4987363511 * t);
-        Y1 += 0.00000000154 * Math.cos(5.69369789989 + 2119.00767786191 * t);
-        Y1 += 0.00000000131 * Math.cos(5.56674422840 + 16984.2399649401 * t);
-        Y1 += 0.00000000131 * Math.cos(4.35512447481 + 9437.5191174035 * t);
-        Y1 += 0.00000000118 * Math.cos(1.90850049529 + 11790.3852711753 * t);
-        Y1 += 0.00000000140 * Math.cos(2.00742093288 + 191.6920835951 * t);
-        Y1 += 0.00000000143 * Math.cos(3.32004481323 + 7994.77225950771 * t);
-        Y1 += 0.00000000123 * Math.cos(1.23478424338 + 213.5429129215 * t);
-        Y1 += 0.00000000111 * Math.cos(2.74887704228 + 8661.9965060795 * t);
-        Y1 += 0.00000000121 * Math.cos(0.64210487280 + 28521.3365957381 * t);
-        Y1 += 0.00000000119 * Math.cos(3.20586515571 + 3929.96587873609 * t);
-        Y1 += 0.00000000106 * Math.cos(4.33742493006 + 1109.6223695769 * t);
-        Y1 += 0.00000000099 * Math.cos(3.87128339263 + 20.5315780089 * t);
-        Y1 += 0.00000000104 * Math.cos(4.60451231291 + 36147.6536947839 * t);
-        Y1 += 0.00000000107 * Math.cos(4.92712251717 + 22805.4917485101 * t);
-        Y1 += 0.00000000125 * Math.cos(3.09576538097 + 12432.2864678813 * t);
-        Y1 += 0.00000000101 * Math.cos(1.57214857483 + 1052.51220067191 * t);
-        Y1 += 0.00000000093 * Math.cos(1.71903836713 + 574.10098085129 * t);
-        Y1 += 0.00000000129 * Math.cos(0.19292287088 + 7564.58690325449 * t);
-        Y1 += 0.00000000092 * Math.cos(3.49801814083 + 9359.84534697549 * t);
-        Y1 += 0.00000000099 * Math.cos(0.75167027759 + 31441.92138724031 * t);
-        Y1 += 0.00000000091 * Math.cos(1.47446366588 + 775.2787938405 * t);
-        Y1 += 0.00000000112 * Math.cos(0.41548066865 + 10186.7434089277 * t);
-        Y1 += 0.00000000095 * Math.cos(2.09703168525 + 10433.9420061333 * t);
-        Y1 += 0.00000000095 * Math.cos(4.25526170853 + 9993.1167212557 * t);
-        Y1 += 0.00000000092 * Math.cos(1.92657936145 + 14143.2514249471 * t);
-        Y1 += 0.00000000096 * Math.cos(3.75726377834 + 220.6564599223 * t);
-        Y1 += 0.00000000084 * Math.cos(1.09570291858 + 6770.46678376209 * t);
-        Y1 += 0.00000000088 * Math.cos(3.56094956187 + 11322.42028082089 * t);
-        Y1 += 0.00000000110 * Math.cos(5.01502416629 + 11802.6022589783 * t);
-        Y1 += 0.00000000108 * Math.cos(3.56320703640 + 29580.7185259273 * t);
-        Y1 += 0.00000000093 * Math.cos(4.32241552615 + 2957.9597119601 * t);
-        Y1 += 0.00000000101 * Math.cos(0.52107246051 + 6770.9544187291 * t);
-        Y1 += 0.00000000105 * Math.cos(3.18747751371 + 8662.48414104651 * t);
-        Y1 += 0.00000000094 * Math.cos(6.19217661869 + 20433.9284569063 * t);
-        Y1 += 0.00000000089 * Math.cos(3.84885484388 + 15720.5949673949 * t);
-        Y1 += 0.00000000088 * Math.cos(4.22623893206 + 206.42936592071 * t);
-        Y1 += 0.00000000101 * Math.cos(0.50947630970 + 7085.1405985987 * t);
-        Y1 += 0.00000000077 * Math.cos(2.93440992089 + 10177.5014970171 * t);
-        Y1 += 0.00000000077 * Math.cos(3.41788347289 + 10249.55723037191 * t);
-        Y1 += 0.00000000087 * Math.cos(2.72553149790 + 2378.9206560881 * t);
-        Y1 += 0.00000000080 * Math.cos(2.87657638659 + 5507.3094211839 * t);
-        Y1 += 0.00000000100 * Math.cos(3.31433227306 + 14945.5599910379 * t);
-        Y1 += 0.00000000096 * Math.cos(1.34435751761 + 8624.45646841071 * t);
-        Y1 += 0.00000000071 * Math.cos(5.88504983472 + 24150.3238688285 * t);
-        Y1 += 0.00000000089 * Math.cos(4.61897054824 + 18875.76968725751 * t);
-        Y1 += 0.00000000071 * Math.cos(4.97846455178 + 29043.91401383189 * t);
-        Y1 += 0.00000000075 * Math.cos(4.48442686361 + 19897.1239448109 * t);
-        Y1 += 0.00000000068 * Math.cos(2.38966490616 + 10384.2022343137 * t);
-        Y1 += 0.00000000068 * Math.cos(3.96262848762 + 10042.8564930753 * t);
-        Y1 += 0.00000000077 * Math.cos(5.37168621038 + 29573.6049789265 * t);
-        Y1 += 0.00000000073 * Math.cos(4.93040355002 + 29587.8320729281 * t);
-        Y1 += 0.00000000063 * Math.cos(4.96682804495 + 10239.3400485273 * t);
-        Y1 += 0.00000000086 * Math.cos(5.50379681688 + 19650.8046636145 * t);
-        Y1 += 0.00000000086 * Math.cos(5.13181328155 + 19360.3194327155 * t);
-        Y1 += 0.00000000061 * Math.cos(5.37335140170 + 29058.1411078335 * t);
-        Y1 += 0.00000000081 * Math.cos(3.17506029506 + 11764.5745863425 * t);
-        Y1 += 0.00000000066 * Math.cos(0.09242614010 + 26735.7014447297 * t);
-        Y1 += 0.00000000075 * Math.cos(5.86155964498 + 25934.3681485729 * t);
-        Y1 += 0.00000000067 * Math.cos(5.87156884416 + 40077.8633910035 * t);
-        Y1 += 0.00000000059 * Math.cos(0.24096472060 + 10988.5643400515 * t);
-        Y1 += 0.00000000077 * Math.cos(5.42249781467 + 20213.5158144675 * t);
-        Y1 += 0.00000000077 * Math.cos(1.74322703053 + 7834.3648901229 * t);
-        Y1 += 0.00000000057 * Math.cos(2.63908550678 + 10404.48999483909 * t);
-        Y1 += 0.00000000057 * Math.cos(6.11425964512 + 110.45013870291 * t);
-        Y1 += 0.00000000067 * Math.cos(3.14352797658 + 17777.87244946549 * t);
-        Y1 += 0.00000000060 * Math.cos(4.64344417198 + 30831.5487222281 * t);
-        Y1 += 0.00000000058 * Math.cos(4.04812917862 + 12592.2062022991 * t);
-        Y1 += 0.00000000054 * Math.cos(3.33029969221 + 19317.43635781211 * t);
-        Y1 += 0.00000000065 * Math.cos(1.59839937239 + 25158.8455372489 * t);
-        Y1 += 0.00000000064 * Math.cos(0.63814287930 + 18308.0510495271 * t);
-        Y1 += 0.00000000059 * Math.cos(1.67190949806 + 9779.32999085069 * t);
-        Y1 += 0.00000000053 * Math.cos(6.23173234110 + 27490.9362955283 * t);
-        Y1 += 0.00000000050 * Math.cos(0.18460290148 + 10103.3230424751 * t);
-        Y1 += 0.00000000050 * Math.cos(6.16769049230 + 10323.7356849139 * t);
-        Y1 += 0.00000000050 * Math.cos(4.63939060613 + 39794.0040721383 * t);
-        Y1 += 0.00000000055 * Math.cos(1.18770302160 + 9793.5570848523 * t);
-        Y1 += 0.00000000048 * Math.cos(2.66058888107 + 29089.0552334685 * t);
-        Y1 += 0.00000000051 * Math.cos(5.30933109582 + 26709.8907598969 * t);
-        Y1 += 0.00000000047 * Math.cos(5.42237264786 + 16522.4158985187 * t);
-        Y1 += 0.00000000060 * Math.cos(4.61502027021 + 12592.6938372661 * t);
-        Y1 += 0.00000000057 * Math.cos(4.83119299148 + 2218.51328670329 * t);
-        Y1 += 0.00000000047 * Math.cos(2.05343620014 + 20640.1140053435 * t);
-        Y1 += 0.00000000046 * Math.cos(2.74639353796 + 19786.9176235915 * t);
-        Y1 += 0.00000000047 * Math.cos(4.18909923765 + 57836.89451481709 * t);
-        Y1 += 0.00000000045 * Math.cos(2.36837617101 + 3532.3045102949 * t);
-        Y1 += 0.00000000047 * Math.cos(1.59938927555 + 22003.6708173863 * t);
-        Y1 += 0.00000000045 * Math.cos(2.81454147982 + 30000.2031698025 * t);
-        Y1 += 0.00000000043 * Math.cos(3.56791888552 + 29786.9040743645 * t);
-        Y1 += 0.00000000051 * Math.cos(0.93432433798 + 44008.0730872231 * t);
-        Y1 += 0.00000000042 * Math.cos(6.21590796001 + 9999.7426332895 * t);
-        Y1 += 0.00000000050 * Math.cos(0.51812370768 + 23581.0143598341 * t);
-        Y1 += 0.00000000051 * Math.cos(6.00715809832 + 13341.9181287903 * t);
-        Y1 += 0.00000000040 * Math.cos(3.99083942383 + 33019.2649296881 * t);
-        Y1 += 0.00000000051 * Math.cos(5.84065090063 + 13656.10430865991 * t);
-        Y1 += 0.00000000048 * Math.cos(1.01747986844 + 213.0552779545 * t);
-        Y1 += 0.00000000039 * Math.cos(4.20765456607 + 20447.5903053979 * t);
-        Y1 += 0.00000000039 * Math.cos(2.75710568559 + 10595.9382609507 * t);
-        Y1 += 0.00000000042 * Math.cos(1.52233926028 + 30665.9111409493 * t);
-        Y1 += 0.00000000042 * Math.cos(2.07548691715 + 3914.71340755109 * t);
-        Y1 += 0.00000000042 * Math.cos(3.20676468713 + 38204.9311768545 * t);
-        Y1 += 0.00000000041 * Math.cos(2.02945904881 + 17469.0990154289 * t);
-        Y1 += 0.00000000036 * Math.cos(4.38221463656 + 10077.90403868451 * t);
-        Y1 += 0.00000000036 * Math.cos(1.97007875722 + 10349.1546887045 * t);
-        Y1 += 0.00000000040 * Math.cos(1.65514953516 + 18830.14083265389 * t);
-        Y1 += 0.00000000039 * Math.cos(1.16926464863 + 18844.36792665549 * t);
-        Y1 += 0.00000000034 * Math.cos(1.79297258774 + 21001.1597082403 * t);
-        Y1 += 0.00000000034 * Math.cos(3.14405588009 + 13936.5506876505 * t);
-        Y1 += 0.00000000032 * Math.cos(5.34063867594 + 36949.4746259077 * t);
-        Y1 += 0.00000000033 * Math.cos(6.10548742756 + 16983.75232997309 * t);
-        Y1 += 0.00000000040 * Math.cos(2.31586332501 + 47938.2827834427 * t);
-        Y1 += 0.00000000032 * Math.cos(0.75258375907 + 39301.8531447125 * t);
-        Y1 += 0.00000000032 * Math.cos(3.89417641266 + 39302.3407796795 * t);
-        Y1 += 0.00000000036 * Math.cos(4.85111863254 + 19374.5465267171 * t);
-        Y1 += 0.00000000032 * Math.cos(3.92861114802 + 16894.7542170941 * t);
-        Y1 += 0.00000000042 * Math.cos(5.08245275253 + 55798.7021758819 * t);
-        Y1 += 0.00000000031 * Math.cos(1.94569247568 + 20043.9183776823 * t);
-        Y1 += 0.00000000033 * Math.cos(6.15578410865 + 48418.21672306549 * t);
-        Y1 += 0.00000000031 * Math.cos(5.95509934930 + 9573.6320773805 * t);
-        Y1 += 0.00000000034 * Math.cos(0.55952606060 + 54247.1693182669 * t);
-        Y1 += 0.00000000032 * Math.cos(0.55000852758 + 10191.6785343681 * t);
-        Y1 += 0.00000000032 * Math.cos(5.80228486620 + 10235.3801930209 * t);
-        Y1 += 0.00000000031 * Math.cos(4.45781570376 + 8087.1643213483 * t);
-        Y1 += 0.00000000032 * Math.cos(3.01069170124 + 19896.63630984389 * t);
-        Y1 += 0.00000000036 * Math.cos(2.43177228108 + 7255.3258342509 * t);
-        Y1 += 0.00000000030 * Math.cos(0.39582329080 + 10853.4266500085 * t);
-        Y1 += 0.00000000037 * Math.cos(1.97789587606 + 27511.2240560537 * t);
-        Y1 += 0.00000000032 * Math.cos(5.51602815822 + 19366.94534474929 * t);
-        Y1 += 0.00000000029 * Math.cos(3.64083349524 + 10291.20313412251 * t);
-        Y1 += 0.00000000029 * Math.cos(2.71145989854 + 10135.8555932665 * t);
-        Y1 += 0.00000000028 * Math.cos(4.16989797155 + 104351.85638378029 * t);
-        Y1 += 0.00000000032 * Math.cos(2.59502959120 + 20206.4022674667 * t);
-        Y1 += 0.00000000029 * Math.cos(1.33160612830 + 29864.0902098255 * t);
-        Y1 += 0.00000000029 * Math.cos(5.27506731832 + 49515.1386909235 * t);
-        Y1 += 0.00000000027 * Math.cos(0.49570343491 + 5661.0882316687 * t);
-        Y1 += 0.00000000034 * Math.cos(0.56834994987 + 9161.2609805061 * t);
-        Y1 += 0.00000000027 * Math.cos(3.93043638128 + 6872.42930202769 * t);
-        Y1 += 0.00000000032 * Math.cos(3.80176203654 + 9836.1557557787 * t);
-        Y1 += 0.00000000032 * Math.cos(2.55053135724 + 10590.9029716103 * t);
-        Y1 += 0.00000000027 * Math.cos(4.68213678931 + 6298.57213865991 * t);
-        Y1 += 0.00000000035 * Math.cos(3.77990327166 + 9986.0532309055 * t);
-        Y1 += 0.00000000035 * Math.cos(2.57239012212 + 10441.00549648351 * t);
-        Y1 += 0.00000000033 * Math.cos(3.63785377361 + 31441.4337522733 * t);
-        Y1 += 0.00000000026 * Math.cos(0.42189641581 + 40879.6843221273 * t);
-        Y1 += 0.00000000034 * Math.cos(4.43221326186 + 1059.1381127057 * t);
-        Y1 += 0.00000000028 * Math.cos(4.84223047836 + 27197.03787618409 * t);
-        Y1 += 0.00000000026 * Math.cos(3.20524473117 + 34363.6094150395 * t);
-        Y1 += 0.00000000032 * Math.cos(5.77908535567 + 11265.7977468829 * t);
-        Y1 += 0.00000000029 * Math.cos(1.74100180776 + 30206.38871823969 * t);
-        Y1 += 0.00000000032 * Math.cos(3.71439292372 + 51868.4924796623 * t);
-        Y1 += 0.00000000029 * Math.cos(5.18039950515 + 35371.6434484929 * t);
-        Y1 += 0.00000000029 * Math.cos(2.03880685156 + 35372.1310834599 * t);
-        Y1 += 0.00000000027 * Math.cos(2.96900241192 + 34596.1208371689 * t);
-        Y1 += 0.00000000033 * Math.cos(0.22008313011 + 59728.91187210151 * t);
-        Y1 += 0.00000000029 * Math.cos(2.13149426586 + 20220.6293614683 * t);
-        Y1 += 0.00000000025 * Math.cos(0.00480216002 + 25933.8805136059 * t);
-        Y1 += 0.00000000024 * Math.cos(1.14435429192 + 8734.17515466309 * t);
-        Y1 += 0.00000000027 * Math.cos(0.93366720196 + 66813.80865321669 * t);
-        Y1 += 0.00000000024 * Math.cos(2.78431824704 + 36173.4643796167 * t);
-        Y1 += 0.00000000024 * Math.cos(2.85202782937 + 31022.9969883397 * t);
-        Y1 += 0.00000000023 * Math.cos(1.83521592175 + 24382.8352909579 * t);
-        Y1 += 0.00000000028 * Math.cos(2.59038076535 + 27461.46703058189 * t);
-        Y1 += 0.00000000027 * Math.cos(1.25678130892 + 30220.6158122413 * t);
-        Y1 += 0.00000000023 * Math.cos(1.14068817117 + 10367.3081741793 * t);
-        Y1 += 0.00000000023 * Math.cos(5.21160522261 + 10059.7505532097 * t);
-        Y1 += 0.00000000023 * Math.cos(0.43117503950 + 20452.6255947383 * t);
-        Y1 += 0.00000000026 * Math.cos(1.22669168244 + 39271.4266540445 * t);
-        Y1 += 0.00000000026 * Math.cos(1.70917344642 + 39257.1995600429 * t);
-        Y1 += 0.00000000022 * Math.cos(2.21618655385 + 43232.0628409321 * t);
-        Y1 += 0.00000000022 * Math.cos(5.35777920744 + 43232.5504758991 * t);
-        Y1 += 0.00000000026 * Math.cos(5.25456910654 + 8101.39141534989 * t);
-        Y1 += 0.00000000022 * Math.cos(1.35771340076 + 24978.7684069643 * t);
-        Y1 += 0.00000000022 * Math.cos(4.11458514050 + 25158.3579022819 * t);
-        Y1 += 0.00000000030 * Math.cos(5.92769527498 + 17248.18148437089 * t);
-        Y1 += 0.00000000022 * Math.cos(5.97215448902 + 27991.15799567649 * t);
-        Y1 += 0.00000000022 * Math.cos(0.18339928832 + 30426.8013606785 * t);
-        Y1 += 0.00000000022 * Math.cos(4.03960220837 + 802.0647486073 * t);
-        Y1 += 0.00000000028 * Math.cos(0.58380772945 + 17297.9385098427 * t);
-        Y1 += 0.00000000021 * Math.cos(5.72756462954 + 9147.03388650451 * t);
-        Y1 += 0.00000000024 * Math.cos(0.86019134061 + 46386.7499258277 * t);
-        Y1 += 0.00000000021 * Math.cos(1.15272291675 + 27197.5255111511 * t);
-        Y1 += 0.00000000021 * Math.cos(1.79721426538 + 44809.8940183469 * t);
-        Y1 += 0.00000000024 * Math.cos(4.32935447070 + 52176.0501006319 * t);
-        Y1 += 0.00000000025 * Math.cos(2.80978996759 + 22805.9793834771 * t);
-        Y1 += 0.00000000022 * Math.cos(2.50649207464 + 9566.03089541269 * t);
-        Y1 += 0.00000000023 * Math.cos(4.04266888662 + 6309.1303523077 * t);
-        Y1 += 0.00000000021 * Math.cos(0.48695657465 + 10949.4058772263 * t);
-        Y1 += 0.00000000021 * Math.cos(5.86533681913 + 9477.65285016271 * t);
-        Y1 += 0.00000000024 * Math.cos(5.27936669763 + 10288.3109622618 * t);
-        Y1 += 0.00000000024 * Math.cos(1.07292669615 + 10138.7477651272 * t);
-        Y1 += 0.00000000027 * Math.cos(2.11911473240 + 9580.2579894143 * t);
-        Y1 += 0.00000000020 * Math.cos(1.17564252576 + 8635.69818627969 * t);
-        Y1 += 0.00000000020 * Math.cos(0.64178978255 + 11280.0248408845 * t);
-        Y1 += 0.00000000021 * Math.cos(5.31872372185 + 3531.81687532789 * t);
-        Y1 += 0.00000000022 * Math.cos(5.81710713116 + 62883.5989569971 * t);
-        Y1 += 0.00000000020 * Math.cos(6.04322502436 + 17468.6113804619 * t);
-        Y1 += 0.00000000023 * Math.cos(1.10446661612 + 10263.2863891663 * t);
-        Y1 += 0.00000000023 * Math.cos(5.24782677766 + 10163.7723382227 * t);
-        Y1 += 0.00000000027 * Math.cos(5.92344983854 + 32216.95636359729 * t);
-        Y1 += 0.00000000021 * Math.cos(4.91435357755 + 47624.0966035731 * t);
-        Y1 += 0.00000000023 * Math.cos(6.01318073085 + 55022.6919295909 * t);
-        Y1 += 0.00000000021 * Math.cos(1.20080376991 + 18300.44986755929 * t);
-        Y1 += 0.00000000026 * Math.cos(1.64245342007 + 63659.1215683211 * t);
-        Y1 += 0.00000000021 * Math.cos(2.86380051865 + 43071.65547154729 * t);
-        Y1 += 0.00000000019 * Math.cos(0.23803378346 + 20316.6085886861 * t);
-        Y1 += 0.00000000027 * Math.cos(4.48319230296 + 28286.74666737769 * t);
-        Y1 += 0.00000000020 * Math.cos(5.63440295344 + 62081.7780258733 * t);
-        Y1 += 0.00000000021 * Math.cos(2.14440776384 + 24341.7721349401 * t);
-        Y1 += 0.00000000020 * Math.cos(1.13738779403 + 49477.59865325469 * t);
-        Y1 += 0.00000000020 * Math.cos(2.35460910589 + 70744.0183494363 * t);
-        Y1 += 0.00000000018 * Math.cos(1.66963360809 + 14128.4865887291 * t);
-        Y1 += 0.00000000022 * Math.cos(0.39682892264 + 27991.6456306435 * t);
-        Y1 += 0.00000000018 * Math.cos(0.69318171155 + 9050.56702431969 * t);
-        Y1 += 0.00000000018 * Math.cos(2.78635204608 + 4705.4884900601 * t);
-        Y1 += 0.00000000017 * Math.cos(3.20253456324 + 28313.0449871775 * t);
-        Y1 += 0.00000000017 * Math.cos(2.89862116564 + 10497.38868255971 * t);
-        Y1 += 0.00000000017 * Math.cos(3.45367222814 + 9929.6700448293 * t);
-        Y1 += 0.00000000017 * Math.cos(5.48500145482 + 19624.9939787817 * t);
-        Y1 += 0.00000000018 * Math.cos(1.11001496449 + 29050.53992586569 * t);
-        Y1 += 0.00000000017 * Math.cos(1.42200475410 + 18314.67696156089 * t);
-        Y1 += 0.00000000016 * Math.cos(3.18072890080 + 48740.1037145665 * t);
-        Y1 += 0.00000000018 * Math.cos(4.39890730410 + 38526.3305333885 * t);
-        Y1 += 0.00000000018 * Math.cos(4.74135169951 + 42430.7295447753 * t);
-        Y1 += 0.00000000018 * Math.cos(5.74382556326 + 42456.5402296081 * t);
-        Y1 += 0.00000000018 * Math.cos(2.58329516885 + 33794.2999060451 * t);
-        Y1 += 0.00000000018 * Math.cos(5.72488782244 + 33794.7875410121 * t);
-        Y1 += 0.00000000016 * Math.cos(3.86440292184 + 9745.5643733401 * t);
-        Y1 += 0.00000000016 * Math.cos(2.48789047194 + 10681.49435404891 * t);
-        Y1 += 0.00000000016 * Math.cos(3.34228325637 + 38734.6221419491 * t);
-        Y1 += 0.00000000016 * Math.cos(3.55643611626 + 47162.2725371517 * t);
-        Y1 += 0.00000000016 * Math.cos(0.41484346267 + 47162.7601721187 * t);
-        Y1 += 0.00000000015 * Math.cos(3.83207526863 + 10199.3022696929 * t);
-        Y1 += 0.00000000015 * Math.cos(2.52021812515 + 10227.7564576961 * t);
-        Y1 += 0.00000000015 * Math.cos(5.97366054337 + 41654.71929848429 * t);
-        Y1 += 0.00000000017 * Math.cos(2.28143373849 + 50316.9596220473 * t);
-        Y1 += 0.00000000015 * Math.cos(1.13326790706 + 53285.4286527253 * t);
-        Y1 += 0.00000000015 * Math.cos(0.77488701815 + 66011.98772209289 * t);
-        Y1 += 0.00000000015 * Math.cos(1.26649043492 + 38727.5085949483 * t);
-        Y1 += 0.00000000015 * Math.cos(6.23110267766 + 46360.9392409949 * t);
-        Y1 += 0.00000000019 * Math.cos(3.03299993077 + 67589.3312645407 * t);
-        Y1 += 0.00000000014 * Math.cos(2.92323813617 + 21228.1482060623 * t);
-        Y1 += 0.00000000014 * Math.cos(5.08679309387 + 40000.1896205755 * t);
-        Y1 += 0.00000000014 * Math.cos(6.23973256044 + 11027.07964765431 * t);
-        Y1 += 0.00000000014 * Math.cos(0.11256083334 + 9399.9790797347 * t);
-        Y1 += 0.00000000014 * Math.cos(6.10753439498 + 37895.6701078509 * t);
-        Y1 += 0.00000000014 * Math.cos(6.16127322322 + 37410.8110573621 * t);
-        Y1 += 0.00000000014 * Math.cos(1.37136100611 + 50291.1489372145 * t);
-        Y1 += 0.00000000013 * Math.cos(5.74299254495 + 12565.9078824993 * t);
-        Y1 += 0.00000000015 * Math.cos(4.65282324499 + 21486.1968400947 * t);
-        Y1 += 0.00000000013 * Math.cos(4.57052594573 + 52670.3134107861 * t);
-        return Y1 * t;
-    }
-
-    static double Y2(double t) // 133 terms of order 2
-    {
-        double Y2 = 0;
-        Y2 += 0.00039116576 * Math.cos(3.17641452985 + 10213.5293636945 * t);
-        Y2 += 0.00001782208 * Math.cos(2.94415914625 + 0.2438174835 * t);
-        Y2 += 0.00000953335 * Math.cos(5.20596121245 + 10213.0417287275 * t);
-        Y2 += 0.00000818754 * Math.cos(3.60833841869 + 20426.8149099055 * t);
-        Y2 += 0.00000012014 * Math.cos(3.98424371923 + 30640.1004561165 * t);
-        Y2 += 0.00000008598 * Math.cos(5.19269385475 + 10239.8276834943 * t);
-        Y2 += 0.00000008636 * Math.cos(1.10093366611 + 10187.2310438947 * t);
-        Y2 += 0.00000003631 * Math.cos(0.41852821424 + 20426.32727493849 * t);
-        Y2 += 0.00000002965 * Math.cos(1.54714831387 + 8636.18582124671 * t);
-        Y2 += 0.00000003797 * Math.cos(5.44744767135 + 9438.0067523705 * t);
-        Y2 += 0.00000003421 * Math.cos(0.82409517159 + 10989.0519750185 * t);
-        Y2 += 0.00000002218 * Math.cos(2.12537117132 + 10022.0810975829 * t);
-        Y2 += 0.00000002134 * Math.cos(4.12308786769 + 10404.9776298061 * t);
-        Y2 += 0.00000002187 * Math.cos(4.57549125366 + 11790.8729061423 * t);
-        Y2 += 0.00000001794 * Math.cos(4.97370212204 + 775.7664288075 * t);
-        Y2 += 0.00000001421 * Math.cos(0.32903550115 + 2353.1099712553 * t);
-        Y2 += 0.00000000972 * Math.cos(4.22805709693 + 1577.0997249643 * t);
-        Y2 += 0.00000000682 * Math.cos(0.11738303047 + 4705.9761250271 * t);
-        Y2 += 0.00000000658 * Math.cos(3.27522517046 + 9683.8383985999 * t);
-        Y2 += 0.00000000715 * Math.cos(6.05529092994 + 9830.6328314713 * t);
-        Y2 += 0.00000000683 * Math.cos(0.27418767588 + 10596.4258959177 * t);
-        Y2 += 0.00000000568 * Math.cos(1.11272461938 + 19651.2922985815 * t);
-        Y2 += 0.00000000544 * Math.cos(4.64774361853 + 191.2044486281 * t);
-        Y2 += 0.00000000678 * Math.cos(2.88508832416 + 18073.9487561337 * t);
-        Y2 += 0.00000000574 * Math.cos(0.38467340878 + 801.5771136403 * t);
-        Y2 += 0.00000000418 * Math.cos(2.74408911585 + 10743.2203287891 * t);
-        Y2 += 0.00000000561 * Math.cos(1.75565662404 + 6283.3196674749 * t);
-        Y2 += 0.00000000531 * Math.cos(5.68669809373 + 7058.8422787989 * t);
-        Y2 += 0.00000000371 * Math.cos(4.29421538467 + 9411.7084325707 * t);
-        Y2 += 0.00000000414 * Math.cos(0.59494833209 + 529.9347825781 * t);
-        Y2 += 0.00000000287 * Math.cos(1.55343952200 + 9104.1508116011 * t);
-        Y2 += 0.00000000314 * Math.cos(5.99276842650 + 15721.0826023619 * t);
-        Y2 += 0.00000000301 * Math.cos(3.87648034857 + 26.0545023163 * t);
-        Y2 += 0.00000000354 * Math.cos(0.58512829013 + 13368.2164485901 * t);
-        Y2 += 0.00000000361 * Math.cos(1.45998367037 + 14143.7390599141 * t);
-        Y2 += 0.00000000349 * Math.cos(1.12786835203 + 22004.1584523533 * t);
-        Y2 += 0.00000000253 * Math.cos(1.92471060417 + 1059.6257476727 * t);
-        Y2 += 0.00000000253 * Math.cos(4.53940292522 + 11322.9079157879 * t);
-        Y2 += 0.00000000253 * Math.cos(5.88126488763 + 3154.4432674121 * t);
-        Y2 += 0.00000000321 * Math.cos(1.94846444699 + 11015.3502948183 * t);
-        Y2 += 0.00000000305 * Math.cos(4.22585959217 + 3128.6325825793 * t);
-        Y2 += 0.00000000202 * Math.cos(0.13780590630 + 10426.8284591325 * t);
-        Y2 += 0.00000000195 * Math.cos(4.45983996443 + 20618.2631760171 * t);
-        Y2 += 0.00000000178 * Math.cos(6.05244122419 + 10000.23026825651 * t);
-        Y2 += 0.00000000157 * Math.cos(4.65387907430 + 40853.3860023275 * t);
-        Y2 += 0.00000000159 * Math.cos(0.72069815424 + 382.6527147397 * t);
-        Y2 += 0.00000000177 * Math.cos(0.39338528515 + 21228.63584102931 * t);
-        Y2 += 0.00000000126 * Math.cos(1.05687133771 + 18849.4713674577 * t);
-        Y2 += 0.00000000131 * Math.cos(5.44244944088 + 1577.5873599313 * t);
-        Y2 += 0.00000000148 * Math.cos(5.58098705803 + 5507.3094211839 * t);
-        Y2 += 0.00000000139 * Math.cos(2.98686042700 + 7860.6632099227 * t);
-        Y2 += 0.00000000146 * Math.cos(2.62658040504 + 19897.1239448109 * t);
-        Y2 += 0.00000000133 * Math.cos(2.03471349227 + 17298.4261448097 * t);
-        Y2 += 0.00000000088 * Math.cos(2.31254159217 + 8623.96883344369 * t);
-        Y2 += 0.00000000116 * Math.cos(5.13082226969 + 9153.6597985383 * t);
-        Y2 += 0.00000000111 * Math.cos(4.24475286797 + 20453.1132297053 * t);
-        Y2 += 0.00000000077 * Math.cos(1.00902400661 + 7084.6529636317 * t);
-        Y2 += 0.00000000081 * Math.cos(5.42779981771 + 2352.6223362883 * t);
-        Y2 += 0.00000000088 * Math.cos(4.73572405097 + 3930.4535137031 * t);
-        Y2 += 0.00000000077 * Math.cos(1.55430183773 + 16496.6052136859 * t);
-        Y2 += 0.00000000069 * Math.cos(5.74285388545 + 23581.5019948011 * t);
-        Y2 += 0.00000000058 * Math.cos(2.86941970816 + 9154.1474335053 * t);
-        Y2 += 0.00000000062 * Math.cos(0.46568901715 + 1109.1347346099 * t);
-        Y2 += 0.00000000063 * Math.cos(0.71005704492 + 9437.5191174035 * t);
-        Y2 += 0.00000000047 * Math.cos(2.16487309027 + 29051.0275608327 * t);
-        Y2 += 0.00000000054 * Math.cos(0.77510495510 + 20809.7114421287 * t);
-        Y2 += 0.00000000055 * Math.cos(1.84291935671 + 4731.7868098599 * t);
-        Y2 += 0.00000000046 * Math.cos(3.98973988228 + 19367.4329797163 * t);
-        Y2 += 0.00000000044 * Math.cos(2.81774994428 + 10787.8741620293 * t);
-        Y2 += 0.00000000044 * Math.cos(3.53454344950 + 9639.18456535971 * t);
-        Y2 += 0.00000000040 * Math.cos(1.76486455663 + 8094.2778683491 * t);
-        Y2 += 0.00000000041 * Math.cos(1.81077528877 + 3929.96587873609 * t);
-        Y2 += 0.00000000047 * Math.cos(3.42216864116 + 12566.3955174663 * t);
-        Y2 += 0.00000000038 * Math.cos(0.61848121900 + 6282.83203250789 * t);
-        Y2 += 0.00000000045 * Math.cos(2.64095270339 + 25934.3681485729 * t);
-        Y2 += 0.00000000034 * Math.cos(3.37999447267 + 28287.2343023447 * t);
-        Y2 += 0.00000000033 * Math.cos(2.41155726835 + 11014.8626598513 * t);
-        Y2 += 0.00000000034 * Math.cos(5.75904174875 + 14919.2616712381 * t);
-        Y2 += 0.00000000032 * Math.cos(1.85044469509 + 24357.0246061251 * t);
-        Y2 += 0.00000000028 * Math.cos(2.26259259006 + 20235.36664379391 * t);
-        Y2 += 0.00000000040 * Math.cos(2.04588679924 + 29580.7185259273 * t);
-        Y2 += 0.00000000033 * Math.cos(3.78712068425 + 4552.1973145423 * t);
-        Y2 += 0.00000000033 * Math.cos(5.68274603993 + 6490.0204047715 * t);
-        Y2 += 0.00000000027 * Math.cos(5.51492765662 + 10640.1275545705 * t);
-        Y2 += 0.00000000026 * Math.cos(0.80714498512 + 9786.9311728185 * t);
-        Y2 += 0.00000000026 * Math.cos(5.24189234984 + 3149.4079780717 * t);
-        Y2 += 0.00000000025 * Math.cos(0.52311174916 + 10192.7539682021 * t);
-        Y2 += 0.00000000025 * Math.cos(2.69201575821 + 10234.3047591869 * t);
-        Y2 += 0.00000000024 * Math.cos(0.09729823382 + 21536.1934619989 * t);
-        Y2 += 0.00000000026 * Math.cos(0.29172518031 + 14143.2514249471 * t);
-        Y2 += 0.00000000024 * Math.cos(1.53398817563 + 18307.56341456009 * t);
-        Y2 += 0.00000000024 * Math.cos(4.66792746343 + 5507.7970561509 * t);
-        Y2 += 0.00000000025 * Math.cos(1.99847907794 + 18875.2820522905 * t);
-        Y2 += 0.00000000030 * Math.cos(2.25346620875 + 20400.5165901057 * t);
-        Y2 += 0.00000000025 * Math.cos(0.91360430606 + 27511.7116910207 * t);
-        Y2 += 0.00000000025 * Math.cos(3.28603866404 + 8661.9965060795 * t);
-        Y2 += 0.00000000019 * Math.cos(3.72923840682 + 11272.91129388371 * t);
-        Y2 += 0.00000000022 * Math.cos(1.87715843315 + 30639.61282114949 * t);
-        Y2 += 0.00000000026 * Math.cos(0.86545419400 + 213.5429129215 * t);
-        Y2 += 0.00000000018 * Math.cos(1.77063553751 + 28521.3365957381 * t);
-        Y2 += 0.00000000023 * Math.cos(0.62230384603 + 13937.0383226175 * t);
-        Y2 += 0.00000000024 * Math.cos(2.21558567781 + 13367.7288136231 * t);
-        Y2 += 0.00000000021 * Math.cos(1.95869049210 + 10186.7434089277 * t);
-        Y2 += 0.00000000019 * Math.cos(3.70619728169 + 10988.5643400515 * t);
-        Y2 += 0.00000000018 * Math.cos(1.45798324955 + 32217.4439985643 * t);
-        Y2 += 0.00000000020 * Math.cos(3.48812478045 + 191.6920835951 * t);
-        Y2 += 0.00000000017 * Math.cos(5.71260028354 + 15874.8614128467 * t);
-        Y2 += 0.00000000014 * Math.cos(1.56125812418 + 21202.3375212295 * t);
-        Y2 += 0.00000000014 * Math.cos(0.92685471122 + 17277.6507493173 * t);
-        Y2 += 0.00000000015 * Math.cos(1.68916723960 + 18073.46112116669 * t);
-        Y2 += 0.00000000014 * Math.cos(0.06020277571 + 10239.3400485273 * t);
-        Y2 += 0.00000000014 * Math.cos(3.96058683099 + 14945.0723560709 * t);
-        Y2 += 0.00000000014 * Math.cos(2.61882493594 + 8662.48414104651 * t);
-        Y2 += 0.00000000014 * Math.cos(3.66333417023 + 11764.5745863425 * t);
-        Y2 += 0.00000000013 * Math.cos(0.36408900148 + 34570.3101523361 * t);
-        Y2 += 0.00000000013 * Math.cos(5.32461592855 + 22779.6810636773 * t);
-        Y2 += 0.00000000012 * Math.cos(2.28383473867 + 31441.92138724031 * t);
-        Y2 += 0.00000000011 * Math.cos(2.70470885221 + 10220.6429106953 * t);
-        Y2 += 0.00000000011 * Math.cos(0.50709992859 + 10206.4158166937 * t);
-        Y2 += 0.00000000010 * Math.cos(2.04719193722 + 7.3573644843 * t);
-        Y2 += 0.00000000010 * Math.cos(3.14863661708 + 22003.6708173863 * t);
-        Y2 += 0.00000000012 * Math.cos(1.89856613068 + 25158.8455372489 * t);
-        Y2 += 0.00000000009 * Math.cos(1.78868375262 + 38500.5198485557 * t);
-        Y2 += 0.00000000010 * Math.cos(4.50140179786 + 11790.3852711753 * t);
-        Y2 += 0.00000000012 * Math.cos(3.63812717753 + 17297.9385098427 * t);
-        Y2 += 0.00000000008 * Math.cos(4.34372477567 + 10404.48999483909 * t);
-        Y2 += 0.00000000009 * Math.cos(3.37718180492 + 29089.0552334685 * t);
-        Y2 += 0.00000000007 * Math.cos(0.37788139417 + 43232.5504758991 * t);
-        Y2 += 0.00000000007 * Math.cos(4.44321392733 + 30000.2031698025 * t);
-        Y2 += 0.00000000009 * Math.cos(6.04652897824 + 7860.17557495569 * t);
-        Y2 += 0.00000000009 * Math.cos(0.19167842758 + 3531.81687532789 * t);
-        Y2 += 0.00000000007 * Math.cos(3.37107259426 + 22805.4917485101 * t);
-        Y2 += 0.00000000007 * Math.cos(2.75239196673 + 529.44714761109 * t);
-        return Y2 * t * t;
-    }
-
-    static double Y3(double t) // 25 terms of order 3
-    {
-        double Y3 = 0;
-        Y3 += 0.00000055518 * Math.cos(0.56397150825 + 10213.0417287275 * t);
-        Y3 += 0.00000057047 * Math.cos(4.30857137510 + 0.2438174835 * t);
-        Y3 += 0.00000032093 * Math.cos(1.48532861520 + 20426.8149099055 * t);
-        Y3 += 0.00000018867 * Math.cos(3.29469305606 + 10213.5293636945 * t);
-        Y3 += 0.00000000716 * Math.cos(1.69291337487 + 30640.1004561165 * t);
-        Y3 += 0.00000000218 * Math.cos(2.23416930390 + 20426.32727493849 * t);
-        Y3 += 0.00000000032 * Math.cos(4.93547527406 + 8636.18582124671 * t);
-        Y3 += 0.00000000034 * Math.cos(1.12379373423 + 10239.8276834943 * t);
-        Y3 += 0.00000000034 * Math.cos(2.09231646083 + 10187.2310438947 * t);
-        Y3 += 0.00000000027 * Math.cos(4.57242516087 + 11790.8729061423 * t);
-        Y3 += 0.00000000020 * Math.cos(2.07822937351 + 775.7664288075 * t);
-        Y3 += 0.00000000016 * Math.cos(5.32962355701 + 10022.0810975829 * t);
-        Y3 += 0.00000000016 * Math.cos(4.16791854245 + 10404.9776298061 * t);
-        Y3 += 0.00000000010 * Math.cos(2.19615394659 + 40853.3860023275 * t);
-        Y3 += 0.00000000010 * Math.cos(1.23351868160 + 9438.0067523705 * t);
-        Y3 += 0.00000000010 * Math.cos(2.08054199257 + 10989.0519750185 * t);
-        Y3 += 0.00000000008 * Math.cos(3.70773784399 + 9683.8383985999 * t);
-        Y3 += 0.00000000007 * Math.cos(1.33595632185 + 191.2044486281 * t);
-        Y3 += 0.00000000007 * Math.cos(5.77536678710 + 10743.2203287891 * t);
-        Y3 += 0.00000000008 * Math.cos(3.50194685886 + 4705.9761250271 * t);
-        Y3 += 0.00000000007 * Math.cos(1.15263198918 + 19651.2922985815 * t);
-        Y3 += 0.00000000004 * Math.cos(4.83876866063 + 9104.1508116011 * t);
-        Y3 += 0.00000000004 * Math.cos(5.57864226359 + 1059.6257476727 * t);
-        Y3 += 0.00000000004 * Math.cos(6.00284338140 + 15721.0826023619 * t);
-        Y3 += 0.00000000003 * Math.cos(4.65996273292 + 11322.9079157879 * t);
-        return Y3 * t * t * t;
-    }
-
-    static double Y4(double t) // 12 terms of order 4
-    {
-        double Y4 = 0;
-        Y4 += 0.00000083081 * Math.cos(6.18993945631 + 10213.5293636945 * t);
-        Y4 += 0.00000002486 * Math.cos(2.28856774293 + 10213.0417287275 * t);
-        Y4 += 0.00000000657 * Math.cos(5.78367664587 + 20426.8149099055 * t);
-        Y4 += 0.00000000217 * Math.cos(2.03456127835 + 0.2438174835 * t);
-        Y4 += 0.00000000035 * Math.cos(5.69795458192 + 30640.1004561165 * t);
-        Y4 += 0.00000000011 * Math.cos(4.01388645377 + 20426.32727493849 * t);
-        Y4 += 0.00000000005 * Math.cos(0.49844804556 + 10239.8276834943 * t);
-        Y4 += 0.00000000005 * Math.cos(2.68999633541 + 10187.2310438947 * t);
-        Y4 += 0.00000000003 * Math.cos(3.35675923207 + 2353.1099712553 * t);
-        Y4 += 0.00000000002 * Math.cos(3.32525148356 + 8636.18582124671 * t);
-        Y4 += 0.00000000002 * Math.cos(1.20160813739 + 1577.0997249643 * t);
-        Y4 += 0.00000000002 * Math.cos(0.72866875334 + 9438.0067523705 * t);
-        return Y4 * t * t * t * t;
-    }
-
-    static double Y5(double t) // 4 terms of order 5
-    {
-        double Y5 = 0;
-        Y5 += 0.00000000631 * Math.cos(0.02845828180 + 10213.5293636945 * t);
-        Y5 += 0.00000000095 * Math.cos(4.11666356042 + 10213.0417287275 * t);
-        Y5 += 0.00000000088 * Math.cos(0.15104017272 + 0.2438174835 * t);
-        Y5 += 0.00000000040 * Math.cos(4.24049298565 + 20426.8149099055 * t);
-        return Y5 * t * t * t * t * t;
-    }
-
-    static double Z0(double t) // 190 terms of order 0
-    {
-        double Z0 = 0;
-        Z0 += 0.04282990302 * Math.cos(0.26703856476 + 10213.285546211 * t);
-        Z0 -= 0.00035588343;
-        Z0 += 0.00014501879 * Math.cos(1.14696911390 + 20426.571092422 * t);
-        Z0 += 0.00000140675 * Math.cos(0.85984113219 + 1577.3435424478 * t);
-        Z0 += 0.00000134921 * Math.cos(3.70465787853 + 2352.8661537718 * t);
-        Z0 += 0.00000095750 * Math.cos(3.66962547073 + 9437.762934887 * t);
-        Z0 += 0.00000072910 * Math.cos(1.55750278240 + 9153.9036160218 * t);
-        Z0 += 0.00000073654 * Math.cos(2.02778434780 + 30639.856638633 * t);
-        Z0 += 0.00000059714 * Math.cos(6.25390371649 + 18073.7049386502 * t);
-        Z0 += 0.00000045307 * Math.cos(2.28075620268 + 5507.5532386674 * t);
-        Z0 += 0.00000043023 * Math.cos(3.95620233472 + 529.6909650946 * t);
-        Z0 += 0.00000037415 * Math.cos(4.53900359933 + 22003.9146348698 * t);
-        Z0 += 0.00000032943 * Math.cos(0.72316171903 + 10239.5838660108 * t);
-        Z0 += 0.00000028156 * Math.cos(2.93415727239 + 10186.9872264112 * t);
-        Z0 += 0.00000032447 * Math.cos(3.86196252330 + 8635.9420037632 * t);
-        Z0 += 0.00000027853 * Math.cos(6.12790511758 + 11790.6290886588 * t);
-        Z0 += 0.00000023013 * Math.cos(0.98699428893 + 775.522611324 * t);
-        Z0 += 0.00000019425 * Math.cos(5.12759462747 + 6283.0758499914 * t);
-        Z0 += 0.00000016289 * Math.cos(2.90852685195 + 10988.808157535 * t);
-        Z0 += 0.00000015382 * Math.cos(5.98588709813 + 19896.8801273274 * t);
-        Z0 += 0.00000015507 * Math.cos(2.00401259454 + 13367.9726311066 * t);
-        Z0 += 0.00000012412 * Math.cos(4.13644030917 + 10021.8372800994 * t);
-        Z0 += 0.00000013004 * Math.cos(4.83195492470 + 14143.4952424306 * t);
-        Z0 += 0.00000010730 * Math.cos(5.61235409382 + 10404.7338123226 * t);
-        Z0 += 0.00000010336 * Math.cos(2.75167531541 + 191.4482661116 * t);
-        Z0 += 0.00000010848 * Math.cos(3.29419910254 + 11015.1064773348 * t);
-        Z0 += 0.00000009775 * Math.cos(1.21418881204 + 8624.2126509272 * t);
-        Z0 += 0.00000010158 * Math.cos(5.71954183827 + 9683.5945811164 * t);
-        Z0 += 0.00000008080 * Math.cos(2.69831049093 + 19651.048481098 * t);
-        Z0 += 0.00000008209 * Math.cos(3.55371021890 + 10742.9765113056 * t);
-        Z0 += 0.00000006416 * Math.cos(0.46264840234 + 9786.687355335 * t);
-        Z0 += 0.00000006429 * Math.cos(4.91481073656 + 1059.3819301892 * t);
-        Z0 += 0.00000006722 * Math.cos(2.41848486045 + 4705.7323075436 * t);
-        Z0 += 0.00000005903 * Math.cos(5.96215831403 + 25934.1243310894 * t);
-        Z0 += 0.00000005647 * Math.cos(3.57594715836 + 3154.6870848956 * t);
-        Z0 += 0.00000004044 * Math.cos(6.24650537722 + 11322.6640983044 * t);
-        Z0 += 0.00000004033 * Math.cos(3.42887820794 + 9103.9069941176 * t);
-        Z0 += 0.00000004210 * Math.cos(4.99232132925 + 7084.8967811152 * t);
-        Z0 += 0.00000004135 * Math.cos(3.43782832503 + 17298.1823273262 * t);
-        Z0 += 0.00000003747 * Math.cos(1.30318722019 + 15720.8387848784 * t);
-        Z0 += 0.00000003417 * Math.cos(3.95474989164 + 7860.4193924392 * t);
-        Z0 += 0.00000003440 * Math.cos(0.77140273510 + 4551.9534970588 * t);
-        Z0 += 0.00000003488 * Math.cos(0.14633368219 + 20618.0193585336 * t);
-        Z0 += 0.00000002851 * Math.cos(5.68591706153 + 10206.1719992102 * t);
-        Z0 += 0.00000002750 * Math.cos(3.89497095361 + 10192.5101507186 * t);
-        Z0 += 0.00000002734 * Math.cos(5.62996472233 + 12566.1516999828 * t);
-        Z0 += 0.00000002682 * Math.cos(4.58018033496 + 801.8209311238 * t);
-        Z0 += 0.00000002743 * Math.cos(6.06387494803 + 10234.0609417034 * t);
-        Z0 += 0.00000002832 * Math.cos(4.24241233220 + 213.299095438 * t);
-        Z0 += 0.00000002756 * Math.cos(5.43236957664 + 29580.4747084438 * t);
-        Z0 += 0.00000002155 * Math.cos(0.29731467355 + 9411.4646150872 * t);
-        Z0 += 0.00000002403 * Math.cos(4.90533210845 + 19367.1891622328 * t);
-        Z0 += 0.00000002103 * Math.cos(1.12514771936 + 29864.334027309 * t);
-        Z0 += 0.00000001632 * Math.cos(4.67123397256 + 1109.3785520934 * t);
-        Z0 += 0.00000001787 * Math.cos(2.52506338741 + 15874.6175953632 * t);
-        Z0 += 0.00000001613 * Math.cos(1.47525165805 + 7058.5984613154 * t);
-        Z0 += 0.00000001598 * Math.cos(2.21757389250 + 10426.584641649 * t);
-        Z0 += 0.00000001154 * Math.cos(1.98818396175 + 26.2983197998 * t);
-        Z0 += 0.00000001132 * Math.cos(5.38517603552 + 7.1135470008 * t);
-        Z0 += 0.00000001468 * Math.cos(0.75541488791 + 9999.986450773 * t);
-        Z0 += 0.00000001118 * Math.cos(0.96571599573 + 23581.2581773176 * t);
-        Z0 += 0.00000001210 * Math.cos(3.17717646354 + 3532.0606928114 * t);
-        Z0 += 0.00000000965 * Math.cos(0.01161931809 + 3128.3887650958 * t);
-        Z0 += 0.00000001027 * Math.cos(2.51592691800 + 33794.5437235286 * t);
-        Z0 += 0.00000000847 * Math.cos(1.24888706950 + 9573.388259897 * t);
-        Z0 += 0.00000000889 * Math.cos(1.48214942791 + 9830.3890139878 * t);
-        Z0 += 0.00000000953 * Math.cos(5.73118460251 + 20213.271996984 * t);
-        Z0 += 0.00000000987 * Math.cos(4.70495944427 + 14945.3161735544 * t);
-        Z0 += 0.00000001030 * Math.cos(0.84929643011 + 8094.5216858326 * t);
-        Z0 += 0.00000000770 * Math.cos(4.54196353475 + 21228.3920235458 * t);
-        Z0 += 0.00000000778 * Math.cos(1.16378510983 + 8662.240323563 * t);
-        Z0 += 0.00000000860 * Math.cos(5.74281955136 + 5661.3320491522 * t);
-        Z0 += 0.00000000670 * Math.cos(5.36864204589 + 1589.0728952838 * t);
-        Z0 += 0.00000000615 * Math.cos(1.96289781619 + 26087.9031415742 * t);
-        Z0 += 0.00000000740 * Math.cos(1.97614280765 + 10596.1820784342 * t);
-        Z0 += 0.00000000606 * Math.cos(6.22070159607 + 25158.6017197654 * t);
-        Z0 += 0.00000000533 * Math.cos(0.73765107493 + 28286.9904848612 * t);
-        Z0 += 0.00000000547 * Math.cos(5.06653964506 + 29050.7837433492 * t);
-        Z0 += 0.00000000592 * Math.cos(3.32632513186 + 3340.6124266998 * t);
-        Z0 += 0.00000000591 * Math.cos(4.62374022159 + 9929.4262273458 * t);
-        Z0 += 0.00000000537 * Math.cos(6.00327539255 + 4732.0306273434 * t);
-        Z0 += 0.00000000569 * Math.cos(5.37276655331 + 10497.1448650762 * t);
-        Z0 += 0.00000000520 * Math.cos(6.11596800207 + 10218.8084705184 * t);
-        Z0 += 0.00000000542 * Math.cos(3.94171539558 + 37724.7534197482 * t);
-        Z0 += 0.00000000575 * Math.cos(2.29073875885 + 21535.9496445154 * t);
-        Z0 += 0.00000000437 * Math.cos(2.42330391120 + 10251.3132188468 * t);
-        Z0 += 0.00000000439 * Math.cos(2.90237828484 + 40853.142184844 * t);
-        Z0 += 0.00000000459 * Math.cos(1.69153061401 + 3930.2096962196 * t);
-        Z0 += 0.00000000405 * Math.cos(1.42927875873 + 9161.0171630226 * t);
-        Z0 += 0.00000000418 * Math.cos(5.48110803243 + 32217.2001810808 * t);
-        Z0 += 0.00000000521 * Math.cos(3.84286345199 + 10207.7626219036 * t);
-        Z0 += 0.00000000457 * Math.cos(6.16974742379 + 10220.3990932118 * t);
-        Z0 += 0.00000000440 * Math.cos(1.25236241968 + 10175.2578735752 * t);
-        Z0 += 0.00000000394 * Math.cos(4.81650684498 + 9146.790069021 * t);
-        Z0 += 0.00000000362 * Math.cos(0.02259543121 + 14765.2390432698 * t);
-        Z0 += 0.00000000396 * Math.cos(4.56209231282 + 10063.7223490764 * t);
-        Z0 += 0.00000000407 * Math.cos(6.15731262846 + 18875.525869774 * t);
-        Z0 += 0.00000000349 * Math.cos(5.78507522549 + 12592.4500197826 * t);
-        Z0 += 0.00000000379 * Math.cos(4.56511543982 + 20419.45754542119 * t);
-        Z0 += 0.00000000314 * Math.cos(5.08259050420 + 18837.49819713819 * t);
-        Z0 += 0.00000000343 * Math.cos(2.36516734231 + 27511.4678735372 * t);
-        Z0 += 0.00000000292 * Math.cos(3.76618455555 + 6681.2248533996 * t);
-        Z0 += 0.00000000289 * Math.cos(3.59841384736 + 11272.6674764002 * t);
-        Z0 += 0.00000000314 * Math.cos(5.23220905264 + 426.598190876 * t);
-        Z0 += 0.00000000301 * Math.cos(4.24971815099 + 14919.0178537546 * t);
-        Z0 += 0.00000000322 * Math.cos(1.36846420067 + 29088.811415985 * t);
-        Z0 += 0.00000000292 * Math.cos(0.74997511570 + 3149.1641605882 * t);
-        Z0 += 0.00000000306 * Math.cos(0.47092243462 + 23958.6317852334 * t);
-        Z0 += 0.00000000254 * Math.cos(4.34026574490 + 10137.0194749354 * t);
-        Z0 += 0.00000000304 * Math.cos(5.33181632059 + 41654.9631159678 * t);
-        Z0 += 0.00000000264 * Math.cos(0.01153452145 + 20452.8694122218 * t);
-        Z0 += 0.00000000334 * Math.cos(5.28920083729 + 382.8965322232 * t);
-        Z0 += 0.00000000236 * Math.cos(1.03442196051 + 22779.4372461938 * t);
-        Z0 += 0.00000000250 * Math.cos(5.05395469123 + 24356.7807886416 * t);
-        Z0 += 0.00000000278 * Math.cos(0.10022232617 + 16496.3613962024 * t);
-        Z0 += 0.00000000232 * Math.cos(0.48064662619 + 17085.9586657222 * t);
-        Z0 += 0.00000000205 * Math.cos(6.19639409918 + 7064.1213856228 * t);
-        Z0 += 0.00000000197 * Math.cos(3.71380377240 + 1551.045222648 * t);
-        Z0 += 0.00000000200 * Math.cos(4.06516779510 + 18849.2275499742 * t);
-        Z0 += 0.00000000170 * Math.cos(5.96522395118 + 10198.033075026 * t);
-        Z0 += 0.00000000170 * Math.cos(3.52866583267 + 10228.538017396 * t);
-        Z0 += 0.00000000180 * Math.cos(0.48168923159 + 45585.1728121874 * t);
-        Z0 += 0.00000000144 * Math.cos(2.81280885697 + 17277.4069318338 * t);
-        Z0 += 0.00000000177 * Math.cos(3.58248029244 + 20400.2727726222 * t);
-        Z0 += 0.00000000170 * Math.cos(3.72282190488 + 31441.6775697568 * t);
-        Z0 += 0.00000000166 * Math.cos(0.03569768750 + 13745.3462390224 * t);
-        Z0 += 0.00000000127 * Math.cos(5.14389302386 + 5481.2549188676 * t);
-        Z0 += 0.00000000138 * Math.cos(1.19253977825 + 22805.7355659936 * t);
-        Z0 += 0.00000000126 * Math.cos(4.21594185374 + 20956.2620575166 * t);
-        Z0 += 0.00000000118 * Math.cos(1.71706550416 + 13341.6743113068 * t);
-        Z0 += 0.00000000131 * Math.cos(0.92317994329 + 3442.5749449654 * t);
-        Z0 += 0.00000000137 * Math.cos(2.89407950366 + 33019.0211122046 * t);
-        Z0 += 0.00000000104 * Math.cos(2.47347358674 + 26709.6469424134 * t);
-        Z0 += 0.00000000127 * Math.cos(0.46833130674 + 536.8045120954 * t);
-        Z0 += 0.00000000126 * Math.cos(2.84049662693 + 9967.4538999816 * t);
-        Z0 += 0.00000000107 * Math.cos(4.19045394315 + 19999.97290154599 * t);
-        Z0 += 0.00000000110 * Math.cos(0.73944778374 + 30110.1656735384 * t);
-        Z0 += 0.00000000138 * Math.cos(4.01403107693 + 21202.093703746 * t);
-        Z0 += 0.00000000121 * Math.cos(3.85928223786 + 522.5774180938 * t);
-        Z0 += 0.00000000122 * Math.cos(0.37000676558 + 10459.1171924404 * t);
-        Z0 += 0.00000000095 * Math.cos(5.25435135477 + 30213.258447757 * t);
-        Z0 += 0.00000000099 * Math.cos(5.61149803116 + 10529.6774158676 * t);
-        Z0 += 0.00000000106 * Math.cos(2.42064996718 + 20809.4676246452 * t);
-        Z0 += 0.00000000095 * Math.cos(3.11317801589 + 9896.8936765544 * t);
-        Z0 += 0.00000000085 * Math.cos(5.88248062550 + 3723.508958923 * t);
-        Z0 += 0.00000000099 * Math.cos(1.93329637732 + 49515.382508407 * t);
-        Z0 += 0.00000000084 * Math.cos(4.93745373910 + 52175.8062831484 * t);
-        Z0 += 0.00000000086 * Math.cos(0.85755223960 + 2379.1644735716 * t);
-        Z0 += 0.00000000114 * Math.cos(5.11309629210 + 103.0927742186 * t);
-        Z0 += 0.00000000110 * Math.cos(1.44699918003 + 43232.3066584156 * t);
-        Z0 += 0.00000000088 * Math.cos(1.59017183044 + 10110.1927719924 * t);
-        Z0 += 0.00000000086 * Math.cos(0.87055324194 + 16522.6597160022 * t);
-        Z0 += 0.00000000089 * Math.cos(2.33714216061 + 10316.3783204296 * t);
-        Z0 += 0.00000000098 * Math.cos(4.66807552803 + 20235.1228263104 * t);
-        Z0 += 0.00000000104 * Math.cos(5.02724740402 + 35371.8872659764 * t);
-        Z0 += 0.00000000093 * Math.cos(4.21356144460 + 36301.18868778519 * t);
-        Z0 += 0.00000000089 * Math.cos(0.88060757437 + 6489.776587288 * t);
-        Z0 += 0.00000000083 * Math.cos(2.07543775594 + 31749.2351907264 * t);
-        Z0 += 0.00000000096 * Math.cos(2.90682399304 + 9793.8009023358 * t);
-        Z0 += 0.00000000078 * Math.cos(2.65839634325 + 10232.95530711079 * t);
-        Z0 += 0.00000000078 * Math.cos(0.55230439694 + 10193.61578531121 * t);
-        Z0 += 0.00000000092 * Math.cos(5.63110477712 + 10288.0671447783 * t);
-        Z0 += 0.00000000092 * Math.cos(3.86278127025 + 10138.5039476437 * t);
-        Z0 += 0.00000000090 * Math.cos(4.34324193073 + 36949.2308084242 * t);
-        Z0 += 0.00000000073 * Math.cos(2.56775245907 + 13936.794505134 * t);
-        Z0 += 0.00000000071 * Math.cos(0.64943236639 + 20.7753954924 * t);
-        Z0 += 0.00000000090 * Math.cos(0.07319663423 + 6872.6731195112 * t);
-        Z0 += 0.00000000069 * Math.cos(1.52914774412 + 9690.7081281172 * t);
-        Z0 += 0.00000000086 * Math.cos(1.02476175384 + 65236.2212932854 * t);
-        Z0 += 0.00000000079 * Math.cos(1.65446145032 + 39264.0692895602 * t);
-        Z0 += 0.00000000071 * Math.cos(0.70714638996 + 36147.4098773004 * t);
-        Z0 += 0.00000000071 * Math.cos(2.52879760001 + 26735.9452622132 * t);
-        Z0 += 0.00000000061 * Math.cos(5.47943297658 + 11764.330768859 * t);
-        Z0 += 0.00000000080 * Math.cos(2.87220602049 + 47162.5163546352 * t);
-        Z0 += 0.00000000065 * Math.cos(2.53312656681 + 10735.8629643048 * t);
-        Z0 += 0.00000000068 * Math.cos(2.28501865578 + 8521.1198767086 * t);
-        Z0 += 0.00000000065 * Math.cos(2.12423586627 + 28313.288804661 * t);
-        Z0 += 0.00000000062 * Math.cos(2.28587915309 + 3903.9113764198 * t);
-        Z0 += 0.00000000069 * Math.cos(0.42270579845 + 9580.5018068978 * t);
-        Z0 += 0.00000000063 * Math.cos(5.80076678078 + 2118.7638603784 * t);
-        Z0 += 0.00000000056 * Math.cos(4.73821324745 + 639.897286314 * t);
-        Z0 += 0.00000000063 * Math.cos(3.35690006984 + 53445.5922046266 * t);
-        Z0 += 0.00000000053 * Math.cos(2.14583523296 + 8631.326197928 * t);
-        Z0 += 0.00000000066 * Math.cos(4.12244312057 + 28521.0927782546 * t);
-        Z0 += 0.00000000058 * Math.cos(5.25045057985 + 10419.4710946482 * t);
-        Z0 += 0.00000000058 * Math.cos(4.23724598221 + 10007.0999977738 * t);
-        Z0 += 0.00000000053 * Math.cos(3.02375632858 + 19317.1925403286 * t);
-        Z0 += 0.00000000071 * Math.cos(2.36609582367 + 74.7815985673 * t);
-        Z0 += 0.00000000062 * Math.cos(2.46239069210 + 10846.0692855242 * t);
-        Z0 += 0.00000000061 * Math.cos(3.77333230443 + 51868.2486621788 * t);
-        return Z0;
-    }
-
-    static double Z1(double t) // 117 terms of order 1
-    {
-        double Z1 = 0;
-        Z1 += 0.00371157532 * Math.cos(1.80370484107 + 10213.285546211 * t);
-        Z1 += 0.00001583350 * Math.cos(3.38513432885 + 20426.571092422 * t);
-        Z1 += 0.00000216150;
-        Z1 += 0.00000012186 * Math.cos(5.60527972670 + 1577.3435424478 * t);
-        Z1 += 0.00000011953 * Math.cos(4.61859507922 + 30639.856638633 * t);
-        Z1 += 0.00000011662 * Math.cos(5.24208633854 + 2352.8661537718 * t);
-        Z1 += 0.00000010398 * Math.cos(2.27393994810 + 9437.762934887 * t);
-        Z1 += 0.00000006381 * Math.cos(0.28617884662 + 9153.9036160218 * t);
-        Z1 += 0.00000005445 * Math.cos(5.08079565040 + 10186.9872264112 * t);
-        Z1 += 0.00000004769 * Math.cos(1.50400058537 + 11790.6290886588 * t);
-        Z1 += 0.00000005179 * Math.cos(1.50697716140 + 18073.7049386502 * t);
-        Z1 += 0.00000003981 * Math.cos(0.75197593763 + 5507.5532386674 * t);
-        Z1 += 0.00000003814 * Math.cos(5.50447607190 + 529.6909650946 * t);
-        Z1 += 0.00000003372 * Math.cos(3.87807635377 + 10239.5838660108 * t);
-        Z1 += 0.00000002840 * Math.cos(1.28497223665 + 10404.7338123226 * t);
-        Z1 += 0.00000003220 * Math.cos(6.07567189618 + 22003.9146348698 * t);
-        Z1 += 0.00000002336 * Math.cos(4.88957218376 + 10988.808157535 * t);
-        Z1 += 0.00000001669 * Math.cos(0.38548673512 + 6283.0758499914 * t);
-        Z1 += 0.00000001381 * Math.cos(4.32769653919 + 19651.048481098 * t);
-        Z1 += 0.00000001296 * Math.cos(1.26608932430 + 19896.8801273274 * t);
-        Z1 += 0.00000001203 * Math.cos(0.38472694833 + 13367.9726311066 * t);
-        Z1 += 0.00000001126 * Math.cos(0.08391401839 + 14143.4952424306 * t);
-        Z1 += 0.00000000867 * Math.cos(6.12475712244 + 7860.4193924392 * t);
-        Z1 += 0.00000000737 * Math.cos(1.36372254530 + 9683.5945811164 * t);
-        Z1 += 0.00000000673 * Math.cos(2.25480471785 + 10021.8372800994 * t);
-        Z1 += 0.00000000673 * Math.cos(1.74966742013 + 11322.6640983044 * t);
-        Z1 += 0.00000000654 * Math.cos(0.52171368417 + 8624.2126509272 * t);
-        Z1 += 0.00000000739 * Math.cos(0.71134257549 + 8635.9420037632 * t);
-        Z1 += 0.00000000592 * Math.cos(2.89903060772 + 15720.8387848784 * t);
-        Z1 += 0.00000000573 * Math.cos(1.68337600461 + 20618.0193585336 * t);
-        Z1 += 0.00000000509 * Math.cos(1.21775184841 + 25934.1243310894 * t);
-        Z1 += 0.00000000402 * Math.cos(5.15486544320 + 9786.687355335 * t);
-        Z1 += 0.00000000522 * Math.cos(3.93344256885 + 775.522611324 * t);
-        Z1 += 0.00000000360 * Math.cos(0.93512209325 + 1059.3819301892 * t);
-        Z1 += 0.00000000331 * Math.cos(6.18983417760 + 11015.1064773348 * t);
-        Z1 += 0.00000000390 * Math.cos(0.55127102590 + 19367.1891622328 * t);
-        Z1 += 0.00000000293 * Math.cos(2.40304140450 + 801.8209311238 * t);
-        Z1 += 0.00000000311 * Math.cos(5.00264213987 + 10742.9765113056 * t);
-        Z1 += 0.00000000303 * Math.cos(1.76024438478 + 17298.1823273262 * t);
-        Z1 += 0.00000000266 * Math.cos(2.34165306562 + 9411.4646150872 * t);
-        Z1 += 0.00000000336 * Math.cos(2.31707280345 + 9999.986450773 * t);
-        Z1 += 0.00000000337 * Math.cos(3.71507493522 + 10596.1820784342 * t);
-        Z1 += 0.00000000238 * Math.cos(3.48412611241 + 7058.5984613154 * t);
-        Z1 += 0.00000000252 * Math.cos(1.31468836511 + 10234.0609417034 * t);
-        Z1 += 0.00000000225 * Math.cos(5.45422332781 + 10192.5101507186 * t);
-        Z1 += 0.00000000224 * Math.cos(2.62853874690 + 23581.2581773176 * t);
-        Z1 += 0.00000000245 * Math.cos(5.76868176406 + 213.299095438 * t);
-        Z1 += 0.00000000240 * Math.cos(4.88817120361 + 10206.1719992102 * t);
-        Z1 += 0.00000000210 * Math.cos(2.37015222881 + 4551.9534970588 * t);
-        Z1 += 0.00000000198 * Math.cos(0.00551647295 + 9830.3890139878 * t);
-        Z1 += 0.00000000235 * Math.cos(0.61645223949 + 29580.4747084438 * t);
-        Z1 += 0.00000000190 * Math.cos(5.02902672388 + 3930.2096962196 * t);
-        Z1 += 0.00000000219 * Math.cos(4.33456063754 + 15874.6175953632 * t);
-        Z1 += 0.00000000171 * Math.cos(3.12200105851 + 12566.1516999828 * t);
-        Z1 += 0.00000000174 * Math.cos(5.99537915416 + 26.2983197998 * t);
-        Z1 += 0.00000000180 * Math.cos(3.65160439089 + 21228.3920235458 * t);
-        Z1 += 0.00000000172 * Math.cos(2.65343695006 + 29864.334027309 * t);
-        Z1 += 0.00000000138 * Math.cos(2.09789826211 + 3128.3887650958 * t);
-        Z1 += 0.00000000138 * Math.cos(6.13843515618 + 9161.0171630226 * t);
-        Z1 += 0.00000000163 * Math.cos(5.40807514906 + 4705.7323075436 * t);
-        Z1 += 0.00000000125 * Math.cos(3.63191548504 + 7.1135470008 * t);
-        Z1 += 0.00000000146 * Math.cos(1.77971392072 + 191.4482661116 * t);
-        Z1 += 0.00000000099 * Math.cos(5.66016472051 + 40853.142184844 * t);
-        Z1 += 0.00000000117 * Math.cos(5.44747244034 + 10426.584641649 * t);
-        Z1 += 0.00000000095 * Math.cos(1.51959002513 + 10218.8084705184 * t);
-        Z1 += 0.00000000101 * Math.cos(4.42330401713 + 10220.3990932118 * t);
-        Z1 += 0.00000000100 * Math.cos(5.54541542103 + 5661.3320491522 * t);
-        Z1 += 0.00000000093 * Math.cos(6.04217729850 + 20419.45754542119 * t);
-        Z1 += 0.00000000082 * Math.cos(5.21733543718 + 8662.240323563 * t);
-        Z1 += 0.00000000092 * Math.cos(0.17084455774 + 9146.790069021 * t);
-        Z1 += 0.00000000085 * Math.cos(4.60308698783 + 25158.6017197654 * t);
-        Z1 += 0.00000000090 * Math.cos(5.47130878539 + 37724.7534197482 * t);
-        Z1 += 0.00000000074 * Math.cos(1.54547841954 + 7084.8967811152 * t);
-        Z1 += 0.00000000087 * Math.cos(3.99154062553 + 33794.5437235286 * t);
-        Z1 += 0.00000000091 * Math.cos(0.63814500882 + 3154.6870848956 * t);
-        Z1 += 0.00000000065 * Math.cos(3.27192235582 + 1109.3785520934 * t);
-        Z1 += 0.00000000089 * Math.cos(1.74739410911 + 3532.0606928114 * t);
-        Z1 += 0.00000000069 * Math.cos(1.21744230443 + 10198.033075026 * t);
-        Z1 += 0.00000000059 * Math.cos(1.45863866349 + 10207.7626219036 * t);
-        Z1 += 0.00000000081 * Math.cos(0.78654424919 + 20213.271996984 * t);
-        Z1 += 0.00000000056 * Math.cos(0.16985541402 + 14919.0178537546 * t);
-        Z1 += 0.00000000052 * Math.cos(2.57737005542 + 22779.4372461938 * t);
-        Z1 += 0.00000000061 * Math.cos(0.72963813902 + 382.8965322232 * t);
-        Z1 += 0.00000000052 * Math.cos(3.49206526650 + 21535.9496445154 * t);
-        Z1 += 0.00000000062 * Math.cos(3.04943681345 + 28286.9904848612 * t);
-        Z1 += 0.00000000056 * Math.cos(2.00173927326 + 10228.538017396 * t);
-        Z1 += 0.00000000057 * Math.cos(0.62155717729 + 41654.9631159678 * t);
-        Z1 += 0.00000000048 * Math.cos(0.21226498407 + 29050.7837433492 * t);
-        Z1 += 0.00000000055 * Math.cos(6.20318924174 + 18837.49819713819 * t);
-        Z1 += 0.00000000056 * Math.cos(2.35632004464 + 9103.9069941176 * t);
-        Z1 += 0.00000000044 * Math.cos(4.12172817384 + 27511.4678735372 * t);
-        Z1 += 0.00000000039 * Math.cos(6.15465517048 + 20400.2727726222 * t);
-        Z1 += 0.00000000040 * Math.cos(3.85673830469 + 11272.6674764002 * t);
-        Z1 += 0.00000000053 * Math.cos(1.80084365566 + 45585.1728121874 * t);
-        Z1 += 0.00000000051 * Math.cos(1.70380845885 + 426.598190876 * t);
-        Z1 += 0.00000000040 * Math.cos(5.52599682847 + 522.5774180938 * t);
-        Z1 += 0.00000000034 * Math.cos(3.92659473780 + 4732.0306273434 * t);
-        Z1 += 0.00000000036 * Math.cos(5.94006075380 + 21202.093703746 * t);
-        Z1 += 0.00000000032 * Math.cos(5.31625288376 + 3149.1641605882 * t);
-        Z1 += 0.00000000039 * Math.cos(1.26146315948 + 32217.2001810808 * t);
-        Z1 += 0.00000000032 * Math.cos(5.03769459810 + 536.8045120954 * t);
-        Z1 += 0.00000000034 * Math.cos(4.19685270992 + 13341.6743113068 * t);
-        Z1 += 0.00000000031 * Math.cos(1.20392434392 + 12592.4500197826 * t);
-        Z1 += 0.00000000036 * Math.cos(3.22618486892 + 49515.382508407 * t);
-        Z1 += 0.00000000031 * Math.cos(6.15462442323 + 29088.811415985 * t);
-        Z1 += 0.00000000029 * Math.cos(0.47911260035 + 1589.0728952838 * t);
-        Z1 += 0.00000000027 * Math.cos(1.23709297168 + 33019.0211122046 * t);
-        Z1 += 0.00000000022 * Math.cos(3.33096598037 + 20452.8694122218 * t);
-        Z1 += 0.00000000028 * Math.cos(0.89703139186 + 8094.5216858326 * t);
-        Z1 += 0.00000000027 * Math.cos(4.63672266528 + 3340.6124266998 * t);
-        Z1 += 0.00000000024 * Math.cos(5.94541303751 + 9929.4262273458 * t);
-        Z1 += 0.00000000024 * Math.cos(0.40689057274 + 10497.1448650762 * t);
-        Z1 += 0.00000000017 * Math.cos(2.88410168794 + 16496.3613962024 * t);
-        Z1 += 0.00000000017 * Math.cos(2.59067946967 + 10175.2578735752 * t);
-        Z1 += 0.00000000017 * Math.cos(3.76162101633 + 10251.3132188468 * t);
-        Z1 += 0.00000000013 * Math.cos(0.74065551442 + 24356.7807886416 * t);
-        Z1 += 0.00000000014 * Math.cos(5.04938942644 + 6681.2248533996 * t);
-        return Z1 * t;
-    }
-
-    static double Z2(double t) // 49 terms of order 2
-    {
-        double Z2 = 0;
-        Z2 += 0.00016179656 * Math.cos(3.38519723238 + 10213.285546211 * t);
-        Z2 += 0.00000305549;
-        Z2 += 0.00000062577 * Math.cos(5.25189799706 + 20426.571092422 * t);
-        Z2 += 0.00000000850 * Math.cos(0.09737945971 + 10186.9872264112 * t);
-        Z2 += 0.00000000592 * Math.cos(0.95308466065 + 30639.856638633 * t);
-        Z2 += 0.00000000573 * Math.cos(0.56552197979 + 2352.8661537718 * t);
-        Z2 += 0.00000000569 * Math.cos(4.36593284769 + 10239.5838660108 * t);
-        Z2 += 0.00000000438 * Math.cos(3.18384728320 + 11790.6290886588 * t);
-        Z2 += 0.00000000468 * Math.cos(4.01105575472 + 1577.3435424478 * t);
-        Z2 += 0.00000000356 * Math.cos(6.12814990238 + 10988.808157535 * t);
-        Z2 += 0.00000000324 * Math.cos(2.79347039249 + 10404.7338123226 * t);
-        Z2 += 0.00000000277 * Math.cos(6.08171605083 + 9437.762934887 * t);
-        Z2 += 0.00000000281 * Math.cos(5.10638363837 + 9153.9036160218 * t);
-        Z2 += 0.00000000208 * Math.cos(3.14696384347 + 18073.7049386502 * t);
-        Z2 += 0.00000000167 * Math.cos(0.70476486230 + 529.6909650946 * t);
-        Z2 += 0.00000000135 * Math.cos(6.00194499808 + 19651.048481098 * t);
-        Z2 += 0.00000000145 * Math.cos(5.41776609230 + 5507.5532386674 * t);
-        Z2 += 0.00000000117 * Math.cos(2.16955801658 + 6283.0758499914 * t);
-        Z2 += 0.00000000121 * Math.cos(1.25671231625 + 22003.9146348698 * t);
-        Z2 += 0.00000000118 * Math.cos(2.56442724367 + 9683.5945811164 * t);
-        Z2 += 0.00000000074 * Math.cos(4.57489383229 + 15720.8387848784 * t);
-        Z2 += 0.00000000083 * Math.cos(5.29424644857 + 13367.9726311066 * t);
-        Z2 += 0.00000000059 * Math.cos(3.28182139103 + 11322.6640983044 * t);
-        Z2 += 0.00000000064 * Math.cos(5.23563988056 + 10596.1820784342 * t);
-        Z2 += 0.00000000060 * Math.cos(2.73672115191 + 19896.8801273274 * t);
-        Z2 += 0.00000000047 * Math.cos(4.80208170598 + 7058.5984613154 * t);
-        Z2 += 0.00000000042 * Math.cos(2.36980390290 + 14143.4952424306 * t);
-        Z2 += 0.00000000041 * Math.cos(1.68366169373 + 801.8209311238 * t);
-        Z2 += 0.00000000032 * Math.cos(0.58444963462 + 10206.1719992102 * t);
-        Z2 += 0.00000000035 * Math.cos(3.21932079821 + 20618.0193585336 * t);
-        Z2 += 0.00000000028 * Math.cos(4.55053233088 + 9999.986450773 * t);
-        Z2 += 0.00000000028 * Math.cos(5.84340580032 + 10220.3990932118 * t);
-        Z2 += 0.00000000029 * Math.cos(3.13488740448 + 9411.4646150872 * t);
-        Z2 += 0.00000000024 * Math.cos(4.56262782130 + 10742.9765113056 * t);
-        Z2 += 0.00000000025 * Math.cos(0.54239218952 + 11015.1064773348 * t);
-        Z2 += 0.00000000020 * Math.cos(4.83254240300 + 9830.3890139878 * t);
-        Z2 += 0.00000000025 * Math.cos(1.23260224812 + 10021.8372800994 * t);
-        Z2 += 0.00000000019 * Math.cos(5.15537838399 + 26.2983197998 * t);
-        Z2 += 0.00000000022 * Math.cos(2.31119555973 + 18849.2275499742 * t);
-        Z2 += 0.00000000021 * Math.cos(5.31579555879 + 775.522611324 * t);
-        Z2 += 0.00000000020 * Math.cos(2.90919452314 + 3128.3887650958 * t);
-        Z2 += 0.00000000023 * Math.cos(2.08236048283 + 8635.9420037632 * t);
-        Z2 += 0.00000000014 * Math.cos(3.33582216202 + 1059.3819301892 * t);
-        Z2 += 0.00000000009 * Math.cos(3.25236762648 + 9103.9069941176 * t);
-        Z2 += 0.00000000009 * Math.cos(0.70904281096 + 7860.4193924392 * t);
-        Z2 += 0.00000000010 * Math.cos(2.21224313590 + 19367.1891622328 * t);
-        Z2 += 0.00000000009 * Math.cos(5.04826725887 + 7.1135470008 * t);
-        Z2 += 0.00000000007 * Math.cos(4.98138067490 + 10426.584641649 * t);
-        Z2 += 0.00000000007 * Math.cos(4.31777952738 + 3154.6870848956 * t);
-        return Z2 * t * t;
-    }
-
-    static double Z3(double t) // 12 terms of order 3
-    {
-        double Z3 = 0;
-        Z3 += 0.00000467466 * Math.cos(4.99201374907 + 10213.285546211 * t);
-        Z3 -= 0.00000021639;
-        Z3 += 0.00000002002 * Math.cos(0.76147646688 + 20426.571092422 * t);
-        Z3 += 0.00000000057 * Math.cos(1.51447613604 + 10186.9872264112 * t);
-        Z3 += 0.00000000042 * Math.cos(5.70731176550 + 10239.5838660108 * t);
-        Z3 += 0.00000000020 * Math.cos(4.71416496562 + 11790.6290886588 * t);
-        Z3 += 0.00000000019 * Math.cos(5.61164867192 + 9437.762934887 * t);
-        Z3 += 0.00000000018 * Math.cos(1.02002338896 + 10988.808157535 * t);
-        Z3 += 0.00000000018 * Math.cos(2.08106024829 + 2352.8661537718 * t);
-        Z3 += 0.00000000008 * Math.cos(4.33056892256 + 10404.7338123226 * t);
-        Z3 += 0.00000000007 * Math.cos(3.07196293928 + 30639.856638633 * t);
-        Z3 += 0.00000000005 * Math.cos(2.22179616897 + 1577.3435424478 * t);
-        return Z3 * t * t * t;
-    }
-
-    static double Z4(double t) // 3 terms of order 4
-    {
-        double Z4 = 0;
-        Z4 += 0.00000010192 * Math.cos(0.31526267335 + 10213.285546211 * t);
-        Z4 -= 0.00000000233;
-        Z4 += 0.00000000069 * Math.cos(2.32746005974 + 20426.571092422 * t);
-        return Z4 * t * t * t * t;
-    }
-
-    static double Z5(double t) // 3 terms of order 5
-    {
-        double Z5 = 0;
-        Z5 += 0.00000000173 * Math.cos(2.05270625526 + 10213.285546211 * t);
-        Z5 += 0.00000000042;
-        Z5 += 0.00000000004 * Math.cos(3.77138066766 + 20426.571092422 * t);
-        return Z5 * t * t * t * t * t;
-    }
-
-
-}
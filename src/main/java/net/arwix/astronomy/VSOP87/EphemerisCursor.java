@@ -0,0 +1,216 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+
+/**
+ * Положение одного объекта для последовательных близких моментов
+ * Real-time tracking cursor: incremental VSOP87 state for monotonic queries a few milliseconds apart
+ * <p/>
+ * Время делится сеткой опорных моментов с шагом h. В опорном моменте ряды суммируются один раз
+ * вместе с производными до третьего порядка, положение в моменте t в пределах h / 2 от опорного
+ * вычисляется многочленом Тейлора третьей степени без обращения к рядам. Ошибка не больше
+ * max|r''''| dt^4 / 24 ({@link VSOP87Series#getDerivativeBound(int)}), шаг h выбирается по допустимой ошибке.
+ * <p/>
+ * sin/cos частот хранятся для текущего опорного момента. При переходе к соседнему опорному моменту
+ * они поворачиваются на постоянный угол C * h, как в {@link VSOP87Evaluator}; при переходе дальше
+ * соседнего и через каждые {@link VSOP87Evaluator#RESEED_INTERVAL} поворотов вычисляются заново.
+ * <p/>
+ * Хранит состояние, поэтому не потокобезопасен: один объект на поток.
+ */
+public class EphemerisCursor {
+
+    /**
+     * допустимая ошибка положения по умолчанию в а.е.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+
+    private final VSOP87Objects object;
+    private final VSOP87Series series;
+    private final double tolerance;
+    /**
+     * шаг опорных моментов в юлианских тысячелетиях
+     */
+    private final double step;
+    private final double maxFrequency;
+
+    private final double[] cos;
+    private final double[] sin;
+    private final double[] stepCos;
+    private final double[] stepSin;
+
+    /**
+     * индекс текущего опорного момента, Long.MIN_VALUE - не вычислен
+     */
+    private long anchor = Long.MIN_VALUE;
+    private int rotations;
+    /**
+     * [координата * 4 + n] -> n-я производная в опорном моменте, а.е. за юлианское тысячелетие в степени n
+     */
+    private final double[] derivatives = new double[3 * 4];
+
+    /**
+     * @param object объект
+     * @param epoch  эпоха
+     */
+    public EphemerisCursor(VSOP87Objects object, Epoch epoch) {
+        this(object, epoch, VSOP87Precision.FULL, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param object    объект
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @param tolerance допустимая ошибка многочлена Тейлора в а.е. (без ошибки усечения рядов)
+     */
+    public EphemerisCursor(VSOP87Objects object, Epoch epoch, VSOP87Precision precision, double tolerance) {
+        if (!(tolerance > 0.0)) throw new IllegalArgumentException("tolerance <= 0");
+        this.object = object;
+        this.series = VSOP87Series.get(object, epoch, precision);
+        this.tolerance = tolerance;
+        final double bound = series.getDerivativeBound(4);
+        // |dt| <= h / 2, bound * (h / 2)^4 / 24 <= tolerance
+        this.step = bound == 0.0 ? VSOP87Series.T_SPAN : 2.0 * Math.pow(24.0 * tolerance / bound, 0.25);
+
+        final double[] frequencies = series.frequencies;
+        this.cos = new double[frequencies.length];
+        this.sin = new double[frequencies.length];
+        this.stepCos = new double[frequencies.length];
+        this.stepSin = new double[frequencies.length];
+        double maxFrequency = 0.0;
+        for (int i = 0; i < frequencies.length; i++) {
+            maxFrequency = Math.max(maxFrequency, Math.abs(frequencies[i]));
+            stepCos[i] = Math.cos(frequencies[i] * step);
+            stepSin[i] = Math.sin(frequencies[i] * step);
+        }
+        this.maxFrequency = maxFrequency;
+    }
+
+    public VSOP87Objects getObject() {
+        return object;
+    }
+
+    /**
+     * @return допустимая ошибка положения в а.е.
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @return шаг опорных моментов в сутках
+     */
+    public double getAnchorInterval() {
+        return step * 365250.0;
+    }
+
+    /**
+     * Геометрические гелиоцентрические эклиптические координаты
+     *
+     * @param T   Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param out X, Y, Z в а.е.
+     */
+    public void getHeliocentricEclipticPosition(double T, double[] out) {
+        final double dt = moveTo(T / 10.0);
+        for (int coordinate = VSOP87Series.X; coordinate <= VSOP87Series.Z; coordinate++) {
+            final int i = 4 * coordinate;
+            out[coordinate] = derivatives[i]
+                    + dt * (derivatives[i + 1] + dt * (derivatives[i + 2] / 2.0 + dt * derivatives[i + 3] / 6.0));
+        }
+    }
+
+    /**
+     * Геометрические гелиоцентрические эклиптические координаты и скорость
+     * <p/>
+     * Ошибка скорости не больше max|r''''| dt^3 / 6, около 8 * tolerance / h
+     *
+     * @param T        Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param position X, Y, Z в а.е.
+     * @param velocity dX/dt, dY/dt, dZ/dt в а.е. за сутки
+     */
+    public void getHeliocentricEclipticState(double T, double[] position, double[] velocity) {
+        final double dt = moveTo(T / 10.0);
+        for (int coordinate = VSOP87Series.X; coordinate <= VSOP87Series.Z; coordinate++) {
+            final int i = 4 * coordinate;
+            position[coordinate] = derivatives[i]
+                    + dt * (derivatives[i + 1] + dt * (derivatives[i + 2] / 2.0 + dt * derivatives[i + 3] / 6.0));
+            // а.е. за юлианское тысячелетие -> а.е. за сутки
+            velocity[coordinate] = (derivatives[i + 1] + dt * (derivatives[i + 2] + dt * derivatives[i + 3] / 2.0))
+                    / 365250.0;
+        }
+    }
+
+    /**
+     * Переход к ближайшему опорному моменту
+     *
+     * @param t юлианские тысячелетия от J2000
+     * @return t - опорный момент
+     */
+    private double moveTo(double t) {
+        final long index = (long) Math.floor(t / step + 0.5);
+        if (index != anchor) {
+            if (anchor != Long.MIN_VALUE && Math.abs(index - anchor) == 1
+                    && rotations < VSOP87Evaluator.RESEED_INTERVAL) {
+                rotate(index > anchor);
+                rotations++;
+            } else {
+                SinCos.evaluate(series.frequencies, maxFrequency, index * step, cos, sin);
+                rotations = 0;
+            }
+            anchor = index;
+            sumDerivatives(index * step);
+        }
+        return t - anchor * step;
+    }
+
+    /**
+     * Поворот sin и cos всех частот на шаг опорных моментов вперед или назад
+     */
+    private void rotate(boolean forward) {
+        for (int i = 0; i < cos.length; i++) {
+            final double c = cos[i];
+            final double s = sin[i];
+            final double d = forward ? stepSin[i] : -stepSin[i];
+            cos[i] = c * stepCos[i] - s * d;
+            sin[i] = s * stepCos[i] + c * d;
+        }
+    }
+
+    /**
+     * Сумма рядов и производных до третьего порядка по уже вычисленным sin и cos
+     * <p/>
+     * Для A cos(B + C t) = a: a' = -C A sin, a'' = -C^2 a, a''' = C^3 A sin.
+     * Многочлен по t с коэффициентами g_k: P_n <- P_n t + n P_(n-1) + g_k^(n)
+     */
+    private void sumDerivatives(double t) {
+        final double[] frequencies = series.frequencies;
+        for (int coordinate = VSOP87Series.X; coordinate <= VSOP87Series.Z; coordinate++) {
+            double p0 = 0.0, p1 = 0.0, p2 = 0.0, p3 = 0.0;
+            for (int order = VSOP87Series.ORDERS - 1; order >= 0; order--) {
+                final int block = coordinate * VSOP87Series.ORDERS + order;
+                final int[] index = series.frequencyIndex[block];
+                final double[] amplitudes = series.rotatedAmplitudes[block];
+                double g0 = 0.0, g1 = 0.0, g2 = 0.0, g3 = 0.0;
+                for (int i = 0; i < index.length; i++) {
+                    final int frequency = index[i];
+                    final double c = cos[frequency];
+                    final double s = sin[frequency];
+                    final double C = frequencies[frequency];
+                    final double value = amplitudes[2 * i] * c - amplitudes[2 * i + 1] * s;
+                    final double quadrature = C * (amplitudes[2 * i + 1] * c + amplitudes[2 * i] * s);
+                    g0 += value;
+                    g1 -= quadrature;
+                    g2 -= C * C * value;
+                    g3 += C * C * quadrature;
+                }
+                p3 = p3 * t + 3.0 * p2 + g3;
+                p2 = p2 * t + 2.0 * p1 + g2;
+                p1 = p1 * t + p0 + g1;
+                p0 = p0 * t + g0;
+            }
+            derivatives[4 * coordinate] = p0;
+            derivatives[4 * coordinate + 1] = p1;
+            derivatives[4 * coordinate + 2] = p2;
+            derivatives[4 * coordinate + 3] = p3;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package net.arwix.astronomy.VSOP87;
+
+/**
+ * Учет светового времени в геоцентрических координатах
+ * Light-time correction mode
+ */
+public enum LightTimeCorrection {
+
+    /**
+     * геометрическое положение на момент T
+     */
+    NONE,
+    /**
+     * одна итерация: световое время по расстоянию на момент T, как в исходных вычислениях
+     */
+    SINGLE,
+    /**
+     * итерации, пока световое время не изменится меньше чем на 1e-9 суток
+     */
+    CONVERGED
+}
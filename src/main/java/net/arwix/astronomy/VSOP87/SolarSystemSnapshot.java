@@ -0,0 +1,179 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Положения всех объектов {@link VSOP87Objects} в один момент времени
+ * Solar-system snapshot: Earth and the frame matrices are evaluated once per instant
+ * <p/>
+ * Ряды каждого объекта вычисляются один раз вместе со скоростью
+ * ({@link VSOP87Evaluator#evaluate(double, double[], double[])}), ряды Земли - один раз на кадр.
+ * Световое время учитывается тем же путем, что и в
+ * {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}: ряд Тейлора с оценкой ошибки,
+ * при большой ошибке ряды вычисляются повторно. Кадр из 9 объектов стоит 8 проходов рядов
+ * (плюс редкие повторные) вместо 16 у отдельных вызовов, результат совпадает с ними побитово.
+ */
+public class SolarSystemSnapshot {
+
+    private final double T;
+    private final Epoch epoch;
+    /**
+     * [объект] -> гелиоцентрические эклиптические X, Y, Z (minus 1-way light-time)
+     */
+    private final double[][] heliocentric;
+    /**
+     * [объект] -> геоцентрические экваториальные X, Y, Z
+     */
+    private final double[][] geocentric;
+
+    private SolarSystemSnapshot(double T, Epoch epoch, double[][] heliocentric, double[][] geocentric) {
+        this.T = T;
+        this.epoch = epoch;
+        this.heliocentric = heliocentric;
+        this.geocentric = geocentric;
+    }
+
+    /**
+     * @param T     Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch эпоха
+     * @return положения всех объектов по полным рядам
+     */
+    public static SolarSystemSnapshot at(double T, Epoch epoch) {
+        return at(T, epoch, VSOP87Precision.FULL);
+    }
+
+    /**
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @return положения всех объектов
+     */
+    public static SolarSystemSnapshot at(double T, Epoch epoch, VSOP87Precision precision) {
+        final VSOP87Objects[] objects = VSOP87Objects.values();
+        final double[][] positions = new double[objects.length][3];
+        final double[][] velocities = new double[objects.length][3];
+        final VSOP87Evaluator[] evaluators = new VSOP87Evaluator[objects.length];
+        for (VSOP87Objects object : objects) {
+            new StateTask(object, T, epoch, precision, evaluators, positions, velocities).compute();
+        }
+        return create(T, epoch, precision, evaluators, positions, velocities);
+    }
+
+    /**
+     * Ряды объектов вычисляются параллельно
+     *
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @param pool      пул потоков
+     * @return положения всех объектов
+     */
+    public static SolarSystemSnapshot at(final double T, final Epoch epoch, final VSOP87Precision precision, ForkJoinPool pool) {
+        final VSOP87Objects[] objects = VSOP87Objects.values();
+        final double[][] positions = new double[objects.length][3];
+        final double[][] velocities = new double[objects.length][3];
+        final VSOP87Evaluator[] evaluators = new VSOP87Evaluator[objects.length];
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<StateTask> tasks = new ArrayList<StateTask>(objects.length);
+                for (VSOP87Objects object : objects) {
+                    if (object == VSOP87Objects.Sun) continue;
+                    tasks.add(new StateTask(object, T, epoch, precision, evaluators, positions, velocities));
+                }
+                invokeAll(tasks);
+            }
+        });
+        return create(T, epoch, precision, evaluators, positions, velocities);
+    }
+
+    private static class StateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final VSOP87Objects object;
+        private final double T;
+        private final Epoch epoch;
+        private final VSOP87Precision precision;
+        private final VSOP87Evaluator[] evaluators;
+        private final double[][] positions;
+        private final double[][] velocities;
+
+        StateTask(VSOP87Objects object, double T, Epoch epoch, VSOP87Precision precision,
+                  VSOP87Evaluator[] evaluators, double[][] positions, double[][] velocities) {
+            this.object = object;
+            this.T = T;
+            this.epoch = epoch;
+            this.precision = precision;
+            this.evaluators = evaluators;
+            this.positions = positions;
+            this.velocities = velocities;
+        }
+
+        @Override
+        protected void compute() {
+            // ряды Солнца пустые
+            if (object == VSOP87Objects.Sun) return;
+            final int index = object.ordinal();
+            evaluators[index] = new VSOP87Evaluator(VSOP87Series.get(object, epoch, precision));
+            evaluators[index].evaluate(T / 10.0, positions[index], velocities[index]);
+        }
+    }
+
+    private static SolarSystemSnapshot create(double T, Epoch epoch, VSOP87Precision precision,
+                                              VSOP87Evaluator[] evaluators, double[][] positions,
+                                              double[][] velocities) {
+        final int count = positions.length;
+        final int earth = VSOP87Objects.Earth.ordinal();
+        final VSOP87Series earthSeries = VSOP87Series.get(VSOP87Objects.Earth, epoch, precision);
+        final double[][] heliocentric = new double[count][3];
+        final double[][] geocentric = new double[count][3];
+        final double[][] scratch = new double[4][3];
+        for (int index = 0; index < count; index++) {
+            final VSOP87Series series = VSOP87Series.get(VSOP87Objects.values()[index], epoch, precision);
+            VSOP87Objects.getGeocentricEquatorialPosition(T, epoch, LightTimeCorrection.SINGLE,
+                    VSOP87Objects.getLightTimeTolerance(earthSeries, series), evaluators[earth],
+                    positions[earth], velocities[earth], evaluators[index], positions[index], velocities[index],
+                    scratch, geocentric[index], 0);
+            System.arraycopy(scratch[2], 0, heliocentric[index], 0, 3);
+        }
+        return new SolarSystemSnapshot(T, epoch, heliocentric, geocentric);
+    }
+
+    /**
+     * @return Юлианские столетия (ET) Time in Julian centuries since J2000
+     */
+    public double getT() {
+        return T;
+    }
+
+    public Epoch getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * get geometric heliocentric ecliptic coordinates (minus 1-way light-time)
+     *
+     * @param object объект
+     * @return новый вектор в а.е.
+     */
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object) {
+        return new RectangularVector(heliocentric[object.ordinal()]);
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты
+     *
+     * @param object объект
+     * @return новый вектор в а.е.
+     */
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object) {
+        return new RectangularVector(geocentric[object.ordinal()]);
+    }
+}
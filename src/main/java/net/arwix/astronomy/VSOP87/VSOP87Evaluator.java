@@ -0,0 +1,250 @@
+package net.arwix.astronomy.VSOP87;
+
+/**
+ * Вычисление рядов VSOP87 с общими sin/cos для одинаковых частот
+ * Frequency-shared evaluation of the VSOP87 series of one body
+ * <p/>
+ * Одни и те же частоты повторяются в рядах X, Y, Z всех степеней t. Для момента t
+ * sin(C t) и cos(C t) вычисляются один раз на каждую различную частоту,
+ * а каждый член собирается по формуле сложения углов
+ * A cos(B + C t) = A cos B * cos(C t) - A sin B * sin(C t).
+ * Пары sin/cos вычисляются многочленами {@link SinCos} с одним приведением угла на пару.
+ * Результат отличается от {@link VSOP87Series#evaluate(double, double[])} только ошибками округления.
+ * <p/>
+ * Для равномерной сетки времени {@link #evaluate(double, double, int, double[], double[], double[])}
+ * поворачивает sin/cos каждой частоты на постоянный угол C * step вместо вычисления тригонометрии,
+ * периодически пересчитывая их точно, чтобы ограничить накопление ошибки.
+ * <p/>
+ * Хранит рабочие массивы, поэтому не потокобезопасен: один объект на поток.
+ */
+public class VSOP87Evaluator {
+
+    /**
+     * через сколько шагов поворота sin/cos вычисляются заново
+     */
+    public static final int RESEED_INTERVAL = 256;
+
+    protected final VSOP87Series series;
+    protected final double[] cos;
+    protected final double[] sin;
+    private final double maxFrequency;
+    private double[] stepCos;
+    private double[] stepSin;
+
+    public VSOP87Evaluator(VSOP87Series series) {
+        this.series = series;
+        this.cos = new double[series.frequencies.length];
+        this.sin = new double[series.frequencies.length];
+        double maxFrequency = 0.0;
+        for (double frequency : series.frequencies) maxFrequency = Math.max(maxFrequency, Math.abs(frequency));
+        this.maxFrequency = maxFrequency;
+    }
+
+    public VSOP87Series getSeries() {
+        return series;
+    }
+
+    /**
+     * Прямоугольные координаты без создания объектов
+     *
+     * @param t   юлианские тысячелетия от J2000 Time in Julian millennia since J2000
+     * @param out массив не меньше 3 элементов для X, Y, Z в а.е.
+     */
+    public void evaluate(double t, double[] out) {
+        setAngles(t);
+        out[VSOP87Series.X] = sum(VSOP87Series.X, t);
+        out[VSOP87Series.Y] = sum(VSOP87Series.Y, t);
+        out[VSOP87Series.Z] = sum(VSOP87Series.Z, t);
+    }
+
+    /**
+     * Только X и Y, например для долготы atan2(Y, X)
+     * <p/>
+     * Ряды X и Y и ряд Z почти не имеют общих частот: sin/cos вычисляются только для частот X и Y
+     * ({@link VSOP87Series#xyFrequencies}), ряд Z не суммируется. Значения совпадают с {@link #evaluate(double, double[])}.
+     *
+     * @param t   юлианские тысячелетия от J2000
+     * @param out массив не меньше 2 элементов для X, Y в а.е.
+     */
+    public void evaluateXY(double t, double[] out) {
+        SinCos.evaluate(series.frequencies, 0, series.xyFrequencies, maxFrequency, t, cos, sin);
+        out[VSOP87Series.X] = sum(VSOP87Series.X, t);
+        out[VSOP87Series.Y] = sum(VSOP87Series.Y, t);
+    }
+
+    /**
+     * Только Z, например для прохождения через плоскость эклиптики
+     *
+     * @param t юлианские тысячелетия от J2000
+     * @return Z в а.е., совпадает с {@link #evaluate(double, double[])}
+     */
+    public double evaluateZ(double t) {
+        SinCos.evaluate(series.frequencies, series.zFrequencies, series.frequencies.length, maxFrequency, t, cos, sin);
+        return sum(VSOP87Series.Z, t);
+    }
+
+    /**
+     * Прямоугольные координаты и скорость за один проход
+     * <p/>
+     * Производная каждого члена A t^k cos(B + C t) вычисляется аналитически
+     * по тем же sin/cos, что и положение:
+     * d/dt = A k t^(k-1) cos(B + C t) - A C t^k sin(B + C t),
+     * A sin(B + C t) = A sin B * cos(C t) + A cos B * sin(C t)
+     *
+     * @param t        юлианские тысячелетия от J2000
+     * @param position массив не меньше 3 элементов для X, Y, Z в а.е.
+     * @param velocity массив не меньше 3 элементов для dX/dt, dY/dt, dZ/dt в а.е. за юлианское тысячелетие
+     */
+    public void evaluate(double t, double[] position, double[] velocity) {
+        setAngles(t);
+        sumState(t, position, 0, velocity, 0);
+    }
+
+    /**
+     * Прямоугольные координаты на равномерной сетке времени t + i * step
+     *
+     * @param t     начало сетки в юлианских тысячелетиях от J2000
+     * @param step  шаг сетки в юлианских тысячелетиях
+     * @param count количество моментов
+     * @param x     X в а.е., не меньше count элементов
+     * @param y     Y в а.е., не меньше count элементов
+     * @param z     Z в а.е., не меньше count элементов
+     */
+    public void evaluate(double t, double step, int count, double[] x, double[] y, double[] z) {
+        evaluate(t, step, count, x, y, z, RESEED_INTERVAL);
+    }
+
+    /**
+     * Прямоугольные координаты на равномерной сетке времени t + i * step
+     *
+     * @param t              начало сетки в юлианских тысячелетиях от J2000
+     * @param step           шаг сетки в юлианских тысячелетиях
+     * @param count          количество моментов
+     * @param x              X в а.е., не меньше count элементов
+     * @param y              Y в а.е., не меньше count элементов
+     * @param z              Z в а.е., не меньше count элементов
+     * @param reseedInterval через сколько шагов sin/cos вычисляются заново, 1 - без поворота
+     */
+    public void evaluate(double t, double step, int count, double[] x, double[] y, double[] z, int reseedInterval) {
+        if (reseedInterval < 1) throw new IllegalArgumentException("reseedInterval < 1");
+        if (count > 0 && reseedInterval > 1) setRotation(step);
+        for (int i = 0; i < count; i++) {
+            final double ti = t + i * step;
+            if (i % reseedInterval == 0) setAngles(ti);
+            else rotate();
+            x[i] = sum(VSOP87Series.X, ti);
+            y[i] = sum(VSOP87Series.Y, ti);
+            z[i] = sum(VSOP87Series.Z, ti);
+        }
+    }
+
+    /**
+     * Прямоугольные координаты и скорость на равномерной сетке времени t + i * step
+     * <p/>
+     * sin/cos частот поворачиваются как в {@link #evaluate(double, double, int, double[], double[], double[])},
+     * скорость - аналитическая производная как в {@link #evaluate(double, double[], double[])}
+     *
+     * @param t          начало сетки в юлианских тысячелетиях от J2000
+     * @param step       шаг сетки в юлианских тысячелетиях
+     * @param count      количество моментов
+     * @param positions  X, Y, Z моментов подряд в а.е., не меньше 3 * count элементов
+     * @param velocities dX/dt, dY/dt, dZ/dt моментов подряд в а.е. за юлианское тысячелетие,
+     *                   не меньше 3 * count элементов
+     */
+    public void evaluate(double t, double step, int count, double[] positions, double[] velocities) {
+        if (count > 0) setRotation(step);
+        for (int i = 0; i < count; i++) {
+            final double ti = t + i * step;
+            if (i % RESEED_INTERVAL == 0) setAngles(ti);
+            else rotate();
+            sumState(ti, positions, 3 * i, velocities, 3 * i);
+        }
+    }
+
+    /**
+     * Сумма рядов и их производных по уже вычисленным sin и cos, см. {@link #evaluate(double, double[], double[])}
+     */
+    private void sumState(double t, double[] position, int positionOffset, double[] velocity, int velocityOffset) {
+        final double[] frequencies = series.frequencies;
+        for (int coordinate = VSOP87Series.X; coordinate <= VSOP87Series.Z; coordinate++) {
+            double value = 0.0;
+            double derivative = 0.0;
+            for (int order = VSOP87Series.ORDERS - 1; order >= 0; order--) {
+                final int block = coordinate * VSOP87Series.ORDERS + order;
+                final int[] index = series.frequencyIndex[block];
+                final double[] amplitudes = series.rotatedAmplitudes[block];
+                double sum = 0.0;
+                double sumDerivative = 0.0;
+                for (int i = 0; i < index.length; i++) {
+                    final int frequency = index[i];
+                    final double c = cos[frequency];
+                    final double s = sin[frequency];
+                    sum += amplitudes[2 * i] * c - amplitudes[2 * i + 1] * s;
+                    sumDerivative -= frequencies[frequency] * (amplitudes[2 * i + 1] * c + amplitudes[2 * i] * s);
+                }
+                // схема Горнера для значения и производной многочлена по t
+                derivative = derivative * t + value + sumDerivative;
+                value = value * t + sum;
+            }
+            position[positionOffset + coordinate] = value;
+            velocity[velocityOffset + coordinate] = derivative;
+        }
+    }
+
+    private void setRotation(double step) {
+        if (stepCos == null) {
+            stepCos = new double[cos.length];
+            stepSin = new double[sin.length];
+        }
+        final double[] frequencies = series.frequencies;
+        for (int i = 0; i < frequencies.length; i++) {
+            final double angle = frequencies[i] * step;
+            stepCos[i] = Math.cos(angle);
+            stepSin[i] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Поворот sin и cos всех частот на один шаг сетки
+     * cos(a + d) = cos a cos d - sin a sin d, sin(a + d) = sin a cos d + cos a sin d
+     */
+    private void rotate() {
+        final double[] cos = this.cos;
+        final double[] sin = this.sin;
+        for (int i = 0; i < cos.length; i++) {
+            final double c = cos[i];
+            final double s = sin[i];
+            cos[i] = c * stepCos[i] - s * stepSin[i];
+            sin[i] = s * stepCos[i] + c * stepSin[i];
+        }
+    }
+
+    /**
+     * Вычисление sin и cos всех частот на момент t
+     */
+    protected void setAngles(double t) {
+        SinCos.evaluate(series.frequencies, maxFrequency, t, cos, sin);
+    }
+
+    /**
+     * Сумма рядов координаты по уже вычисленным sin и cos
+     */
+    protected double sum(int coordinate, double t) {
+        double result = 0.0;
+        for (int order = VSOP87Series.ORDERS - 1; order >= 0; order--) {
+            result = result * t + sum(coordinate * VSOP87Series.ORDERS + order);
+        }
+        return result;
+    }
+
+    protected double sum(int block) {
+        final int[] index = series.frequencyIndex[block];
+        final double[] amplitudes = series.rotatedAmplitudes[block];
+        double sum = 0.0;
+        for (int i = 0; i < index.length; i++) {
+            final int frequency = index[i];
+            sum += amplitudes[2 * i] * cos[frequency] - amplitudes[2 * i + 1] * sin[frequency];
+        }
+        return sum;
+    }
+}
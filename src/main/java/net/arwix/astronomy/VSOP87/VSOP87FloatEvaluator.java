@@ -0,0 +1,130 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.AstroMath;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.Matrix;
+
+/**
+ * Геоцентрические экваториальные положения в одинарной точности для отрисовки
+ * Float rendering path: positions of several bodies written straight into a float[] buffer
+ * <p/>
+ * Ряды {@link VSOP87Precision#FLOAT} суммируются в double (сумма тысяч членов во float теряет
+ * точность), световое время учитывается рядом Тейлора с оценкой ошибки, как в
+ * {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}, разность
+ * с Землей записывается во float и поворачивается к экватору матрицей в одинарной точности
+ * ({@link Matrix#MultiplyMV(float[], int, float[], int, int)}). Объекты не создаются.
+ * Результат можно передать в {@link net.arwix.astronomy.coordinates.OrthographicProjection#getProjection(float[], int, float, float[], int, int)}.
+ * <p/>
+ * Потеря точности относительно {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}:
+ * направление не больше 0.25" (усечение рядов до 0.2", фактически до 0.03", float около 0.01",
+ * матрицы APPARENT на момент T до 0.02"), расстояние - относительная ошибка около 1e-7.
+ * <p/>
+ * Хранит рабочие массивы, поэтому не потокобезопасен: один объект на поток.
+ */
+public class VSOP87FloatEvaluator {
+
+    private static final Matrix J2000_ECLIPTIC_TO_EQUATORIAL = AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000);
+
+    private final Epoch epoch;
+    private final VSOP87Objects[] objects;
+    private final VSOP87Evaluator earth;
+    /**
+     * [индекс объекта] -> вычислитель рядов, null для Солнца и Земли
+     */
+    private final VSOP87Evaluator[] evaluators;
+    /**
+     * [индекс объекта] -> допустимая ошибка ряда Тейлора светового времени в а.е.
+     */
+    private final double[] tolerances;
+    private final double earthTolerance;
+
+    private final double[] earthPosition = new double[3];
+    private final double[] earthVelocity = new double[3];
+    private final double[] earthRetarded = new double[3];
+    private final double[] position = new double[3];
+    private final double[] velocity = new double[3];
+    private final double[] retarded = new double[3];
+
+    /**
+     * @param epoch   эпоха
+     * @param objects объекты в порядке записи в массив результата
+     */
+    public VSOP87FloatEvaluator(Epoch epoch, VSOP87Objects... objects) {
+        this.epoch = epoch;
+        this.objects = objects.clone();
+        final VSOP87Series earthSeries = VSOP87Series.get(VSOP87Objects.Earth, epoch, VSOP87Precision.FLOAT);
+        this.earth = new VSOP87Evaluator(earthSeries);
+        this.earthTolerance = VSOP87Objects.getLightTimeTolerance(earthSeries, earthSeries);
+        this.evaluators = new VSOP87Evaluator[objects.length];
+        this.tolerances = new double[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            final VSOP87Series series = VSOP87Series.get(objects[i], epoch, VSOP87Precision.FLOAT);
+            tolerances[i] = VSOP87Objects.getLightTimeTolerance(earthSeries, series);
+            if (objects[i] == VSOP87Objects.Sun || objects[i] == VSOP87Objects.Earth) continue;
+            evaluators[i] = new VSOP87Evaluator(series);
+        }
+    }
+
+    public Epoch getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return объекты в порядке записи в массив результата
+     */
+    public VSOP87Objects[] getObjects() {
+        return objects.clone();
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты всех объектов
+     *
+     * @param T      Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param out    X, Y, Z объектов подряд в а.е., не меньше offset + 3 * количество объектов элементов
+     * @param offset индекс X первого объекта в out
+     */
+    public void getGeocentricEquatorialPositions(double T, float[] out, int offset) {
+        final double t = T / 10.0;
+        earth.evaluate(t, earthPosition, earthVelocity);
+
+        for (int index = 0; index < objects.length; index++) {
+            final VSOP87Objects object = objects[index];
+            final int o = offset + 3 * index;
+            if (object == VSOP87Objects.Earth) {
+                out[o] = 0.0f;
+                out[o + 1] = 0.0f;
+                out[o + 2] = 0.0f;
+                continue;
+            }
+            if (object == VSOP87Objects.Sun) {
+                // ряды Солнца пустые
+                for (int i = 0; i < 3; i++) {
+                    position[i] = 0.0;
+                    velocity[i] = 0.0;
+                }
+            } else {
+                evaluators[index].evaluate(t, position, velocity);
+            }
+            final double dx = position[0] - earthPosition[0];
+            final double dy = position[1] - earthPosition[1];
+            final double dz = position[2] - earthPosition[2];
+            // световое время в сутках
+            final double dT = Math.sqrt(dx * dx + dy * dy + dz * dz) / Constant.C_Light;
+            VSOP87Objects.retard(evaluators[index], t, position, velocity, dT, tolerances[index], retarded);
+            if (epoch == Epoch.APPARENT) {
+                VSOP87Objects.retard(earth, t, earthPosition, earthVelocity, dT, earthTolerance, earthRetarded);
+            } else {
+                System.arraycopy(earthPosition, 0, earthRetarded, 0, 3);
+            }
+            out[o] = (float) (retarded[0] - earthRetarded[0]);
+            out[o + 1] = (float) (retarded[1] - earthRetarded[1]);
+            out[o + 2] = (float) (retarded[2] - earthRetarded[2]);
+        }
+
+        final Matrix matrix = epoch == Epoch.APPARENT
+                ? AstroMath.getNutation(T).Multiply(AstroMath.getEclipticalToEquatorialCoordinates(T))
+                : J2000_ECLIPTIC_TO_EQUATORIAL;
+        matrix.MultiplyMV(out, offset, out, offset, objects.length);
+    }
+}
@@ -1,7 +1,9 @@
 package net.arwix.astronomy.VSOP87;
 
 import net.arwix.astronomy.*;
+import net.arwix.astronomy.coordinates.Matrix;
 import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.StateVector;
 import net.arwix.astronomy.coordinates.Vector;
 
 public enum VSOP87Objects implements HeliocentricEclipticCoordinates, GeocentricEquatorialCoordinates {
@@ -9,6 +11,42 @@ public enum VSOP87Objects implements HeliocentricEclipticCoordinates, Geocentric
 
     Sun, Mercury, Venus, Earth, Mars, Jupiter, Saturn, Uranus, Neptune;
 
+    /**
+     * допустимая ошибка положения на момент T - световое время по ряду Тейлора в а.е.
+     */
+    public static final double LIGHT_TIME_TOLERANCE = 1e-9;
+
+    /**
+     * точность итераций светового времени в сутках и их наибольшее количество
+     */
+    private static final double LIGHT_TIME_CONVERGENCE = 1e-9;
+    private static final int LIGHT_TIME_ITERATIONS = 10;
+
+    /**
+     * отношение возмущающего ускорения к солнечному, Луна для Земли около 1%
+     */
+    private static final double PERTURBATION = 0.012;
+
+    /**
+     * количество моментов в блоке {@link #getGeocentricEquatorialPositions(VSOP87Objects[], double[], Epoch, VSOP87Precision, LightTimeCorrection, double[][])}
+     */
+    public static final int TILE_SIZE = 64;
+
+    private static final Matrix J2000_ECLIPTIC_TO_EQUATORIAL = AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000);
+
+    private static final int EPOCHS = Epoch.values().length;
+    private static final int OBJECTS = values().length;
+
+    /**
+     * вычислители рядов текущего потока [точность][эпоха][объект], создаются при первом использовании
+     */
+    private static final ThreadLocal<VSOP87Evaluator[]> EVALUATORS = new ThreadLocal<VSOP87Evaluator[]>() {
+        @Override
+        protected VSOP87Evaluator[] initialValue() {
+            return new VSOP87Evaluator[VSOP87Precision.values().length * EPOCHS * OBJECTS];
+        }
+    };
+
     /**
      * get geometric heliocentric ecliptic coordinates (minus 1-way light-time)
      *
@@ -18,12 +56,118 @@ public enum VSOP87Objects implements HeliocentricEclipticCoordinates, Geocentric
      * @return Vector
      */
     public Vector getHeliocentricEclipticPosition(double T, Epoch epoch) {
-        Vector earthEcliptical = Earth.getEclipticCoordinates(T, epoch);
-        Vector objEcliptical = this.getEclipticCoordinates(T, epoch);
-        Vector objGeoEcliptic = Vector.substract(objEcliptical, earthEcliptical);
-        final double dT = objGeoEcliptic.norm() / Constant.C_Light / 36525.0;
+        return getHeliocentricEclipticPosition(T, epoch, VSOP87Precision.FULL);
+    }
+
+    /**
+     * get geometric heliocentric ecliptic coordinates (minus 1-way light-time)
+     * по усеченным рядам
+     *
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @return Vector
+     */
+    public Vector getHeliocentricEclipticPosition(double T, Epoch epoch, VSOP87Precision precision) {
+        final double dT = getGeometricGeocentricDistance(T, epoch, precision) / Constant.C_Light / 36525.0;
         T = T - dT;
-        return getEclipticCoordinates(T, epoch);
+        return getEclipticCoordinates(T, epoch, precision);
+    }
+
+    /**
+     * Геометрическая гелиоцентрическая эклиптическая долгота (без учета светового времени)
+     * <p/>
+     * Суммируются только ряды X и Y ({@link VSOP87Evaluator#evaluateXY(double, double[])}),
+     * для поиска равноденствий, солнцестояний и противостояний. Геоцентрическая долгота Солнца
+     * равна долготе Земли + pi.
+     *
+     * @param T     Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch эпоха
+     * @return долгота в радианах 0 ... 2 pi
+     */
+    public double getGeometricEclipticLongitude(double T, Epoch epoch) {
+        final double[] out = new double[2];
+        getEvaluator(this, epoch, VSOP87Precision.FULL).evaluateXY(T / 10.0, out);
+        return AstroMath.modulo(Math.atan2(out[VSOP87Series.Y], out[VSOP87Series.X]), Constant.PI2);
+    }
+
+    /**
+     * Геометрическое гелиоцентрическое расстояние (без учета светового времени)
+     * <p/>
+     * В прямоугольных рядах VSOP87 нет ряда расстояния, суммируются X, Y и Z, но без
+     * {@link Vector} и перевода в сферические координаты; для поисковых итераций подходят усеченные ряды.
+     *
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @return расстояние в а.е.
+     */
+    public double getGeometricHeliocentricDistance(double T, Epoch epoch, VSOP87Precision precision) {
+        final double[] out = new double[3];
+        getEvaluator(this, epoch, precision).evaluate(T / 10.0, out);
+        return Math.sqrt(out[0] * out[0] + out[1] * out[1] + out[2] * out[2]);
+    }
+
+    /**
+     * Геометрическое геоцентрическое расстояние (без учета светового времени), для светового времени
+     * и поиска противостояний
+     *
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @return расстояние в а.е.
+     */
+    public double getGeometricGeocentricDistance(double T, Epoch epoch, VSOP87Precision precision) {
+        final double t = T / 10.0;
+        final double[] earth = new double[3];
+        final double[] position = new double[3];
+        getEvaluator(Earth, epoch, precision).evaluate(t, earth);
+        getEvaluator(this, epoch, precision).evaluate(t, position);
+        return getDistance(position, earth);
+    }
+
+    /**
+     * Гелиоцентрические эклиптические положение и скорость (minus 1-way light-time)
+     * <p/>
+     * Положение и скорость объекта на момент T вычисляются одним проходом по общим sin/cos частот
+     * (аналитическая производная рядов, см. {@link VSOP87Evaluator#evaluate(double, double[], double[])}),
+     * к моменту T - световое время они переносятся рядом Тейлора, как в
+     * {@link #getGeocentricEquatorialPosition(double, Epoch)}; если оценка ошибки положения больше
+     * {@link #LIGHT_TIME_TOLERANCE}, проход повторяется на момент T - световое время.
+     * Вместе с рядами Земли для светового времени - около двух вычислений рядов.
+     * Скорость переносится первым порядком, относительная ошибка не больше 1e-5.
+     *
+     * @param T     Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch эпоха
+     * @return положение в а.е. и скорость в а.е. за сутки
+     */
+    public StateVector getHeliocentricEclipticState(double T, Epoch epoch) {
+        final double t = T / 10.0;
+        final double[] earth = new double[3];
+        final double[] position = new double[3];
+        final double[] velocity = new double[3];
+        getEvaluator(Earth, epoch, VSOP87Precision.FULL).evaluate(t, earth);
+        final VSOP87Evaluator evaluator = getEvaluator(this, epoch, VSOP87Precision.FULL);
+        evaluator.evaluate(t, position, velocity);
+        final double dT = getDistance(position, earth) / Constant.C_Light;
+        // ряды Солнца равны нулю
+        if (dT != 0.0 && evaluator.getSeries().getFrequencyCount() != 0) {
+            if (getRetardError(position, velocity, dT) > LIGHT_TIME_TOLERANCE) {
+                evaluator.evaluate(t - dT / 365250.0, position, velocity);
+            } else {
+                final double r2 = position[0] * position[0] + position[1] * position[1] + position[2] * position[2];
+                final double k = Constant.GM_Sun / (r2 * Math.sqrt(r2));
+                for (int i = 0; i < 3; i++) {
+                    // a = -GM r / |r|^3 в а.е. за сутки^2, v(t - dT) = v - a dT
+                    final double acceleration = -k * position[i];
+                    position[i] = position[i] - velocity[i] / 365250.0 * dT + 0.5 * acceleration * dT * dT;
+                    velocity[i] = velocity[i] - acceleration * 365250.0 * dT;
+                }
+            }
+        }
+        // а.е. за юлианское тысячелетие -> а.е. за сутки
+        for (int i = 0; i < 3; i++) velocity[i] /= 365250.0;
+        return new StateVector(new RectangularVector(position), new RectangularVector(velocity));
     }
 
     /**
@@ -34,148 +178,318 @@ public enum VSOP87Objects implements HeliocentricEclipticCoordinates, Geocentric
      * @return Vector
      */
     public Vector getGeocentricEquatorialPosition(double T, Epoch epoch) {
-        Vector earthEcliptical = Earth.getEclipticCoordinates(T, epoch);
-        Vector objEcliptical = this.getEclipticCoordinates(T, epoch);
-        Vector objGeoEcliptic = Vector.substract(objEcliptical, earthEcliptical);
-        final double dT = objGeoEcliptic.norm() / Constant.C_Light / 36525.0;
-        T = T - dT;
-        switch (epoch) {
-            case APPARENT:
-                earthEcliptical = Earth.getEclipticCoordinates(T, epoch);
-                objEcliptical = this.getEclipticCoordinates(T, epoch);
-                objGeoEcliptic = Vector.substract(objEcliptical, earthEcliptical);
-                return AstroMath.getNutation(T).Multiply(AstroMath.getEclipticalToEquatorialCoordinates(T)).MultiplyMV(objGeoEcliptic);
-            case J2000:
-                objEcliptical = this.getEclipticCoordinates(T, epoch);
-                objGeoEcliptic = Vector.substract(objEcliptical, earthEcliptical);
-                return AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000).MultiplyMV(objGeoEcliptic);
-        }
-        return null;
+        return getGeocentricEquatorialPosition(T, epoch, VSOP87Precision.FULL);
     }
 
-    private Vector getEclipticCoordinates(double T, Epoch epoch) {
-        switch (epoch) {
-            case APPARENT:
-                return new PositionApparent(this).getEclipticCoordinates(T);
-            case J2000:
-                return new PositionJ2000(this).getEclipticCoordinates(T);
-        }
-        return null;
+    /**
+     * Вычисляет геоцентрические (в центре Земля) экваториальные координаты по усеченным рядам
+     *
+     * @param T         Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch     эпоха
+     * @param precision точность рядов {@link VSOP87Precision}
+     * @return Vector
+     */
+    public Vector getGeocentricEquatorialPosition(double T, Epoch epoch, VSOP87Precision precision) {
+        return getGeocentricEquatorialPosition(T, epoch, precision, LightTimeCorrection.SINGLE);
     }
 
-    private static class PositionJ2000 {
-        private final VSOP87Objects mObject;
+    /**
+     * Вычисляет геоцентрические (в центре Земля) экваториальные координаты
+     * <p/>
+     * Ряды Земли и объекта вычисляются один раз вместе со скоростью. Положение на момент
+     * T - световое время получается рядом Тейлора второго порядка, если оценка его ошибки не больше
+     * {@link #LIGHT_TIME_TOLERANCE} (или ошибки усеченных рядов), иначе ряды вычисляются повторно.
+     * Для Солнца (ряды равны нулю) вычисляются только ряды Земли.
+     * Вычислители рядов не создаются при каждом вызове, см. {@link #getEvaluator(VSOP87Objects, Epoch, VSOP87Precision)}.
+     * Отличие от повторного вычисления рядов не больше {@link #LIGHT_TIME_TOLERANCE} а.е.
+     *
+     * @param T          Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch      эпоха
+     * @param precision  точность рядов {@link VSOP87Precision}
+     * @param correction учет светового времени
+     * @return Vector
+     */
+    public Vector getGeocentricEquatorialPosition(double T, Epoch epoch, VSOP87Precision precision,
+                                                  LightTimeCorrection correction) {
+        if (this == Earth) return new RectangularVector();
+        final VSOP87Series earthSeries = VSOP87Series.get(Earth, epoch, precision);
+        final VSOP87Series series = VSOP87Series.get(this, epoch, precision);
+        final VSOP87Evaluator earthEvaluator = getEvaluator(Earth, epoch, precision);
+        final VSOP87Evaluator evaluator = series.getFrequencyCount() == 0 ? null : getEvaluator(this, epoch, precision);
+        final double tolerance = getLightTimeTolerance(earthSeries, series);
 
-        private PositionJ2000(VSOP87Objects object) {
-            mObject = object;
+        final double[] earth = new double[3];
+        final double[] earthVelocity = new double[3];
+        earthEvaluator.evaluate(T / 10.0, earth, earthVelocity);
+        final double[] out = new double[3];
+        getGeocentricEquatorialPosition(T, epoch, correction, tolerance, earthEvaluator, earth, earthVelocity,
+                evaluator, new double[4][3], out, 0);
+        return new RectangularVector(out);
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты нескольких объектов в несколько моментов
+     * с полными рядами и однократным учетом светового времени
+     *
+     * @param objects K объектов
+     * @param T       N моментов в юлианских столетиях (ET) от J2000
+     * @param epoch   эпоха
+     * @param out     [индекс объекта] -> X, Y, Z моментов подряд в а.е., не меньше 3 * N элементов
+     * @see #getGeocentricEquatorialPositions(VSOP87Objects[], double[], Epoch, VSOP87Precision, LightTimeCorrection, double[][])
+     */
+    public static void getGeocentricEquatorialPositions(VSOP87Objects[] objects, double[] T, Epoch epoch, double[][] out) {
+        getGeocentricEquatorialPositions(objects, T, epoch, VSOP87Precision.FULL, LightTimeCorrection.SINGLE, out);
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты нескольких объектов в несколько моментов
+     * <p/>
+     * Ряды Земли вычисляются один раз на момент, всего N * (K + 1) проходов рядов вместо N * 2K
+     * отдельных вызовов. Моменты обрабатываются блоками по {@link #TILE_SIZE}: для блока вычисляются
+     * ряды Земли, затем ряды каждого объекта подряд для всех моментов блока, коэффициенты одного
+     * объекта остаются в кэше процессора. Результат совпадает с
+     * {@link #getGeocentricEquatorialPosition(double, Epoch, VSOP87Precision, LightTimeCorrection)} побитово.
+     *
+     * @param objects    K объектов
+     * @param T          N моментов в юлианских столетиях (ET) от J2000
+     * @param epoch      эпоха
+     * @param precision  точность рядов {@link VSOP87Precision}
+     * @param correction учет светового времени
+     * @param out        [индекс объекта] -> X, Y, Z моментов подряд в а.е., не меньше 3 * N элементов
+     */
+    public static void getGeocentricEquatorialPositions(VSOP87Objects[] objects, double[] T, Epoch epoch,
+                                                        VSOP87Precision precision, LightTimeCorrection correction,
+                                                        double[][] out) {
+        final VSOP87Series earthSeries = VSOP87Series.get(Earth, epoch, precision);
+        final VSOP87Evaluator earthEvaluator = new VSOP87Evaluator(earthSeries);
+        final VSOP87Evaluator[] evaluators = new VSOP87Evaluator[objects.length];
+        final double[] tolerances = new double[objects.length];
+        for (int k = 0; k < objects.length; k++) {
+            final VSOP87Series series = VSOP87Series.get(objects[k], epoch, precision);
+            if (series.getFrequencyCount() != 0) evaluators[k] = new VSOP87Evaluator(series);
+            tolerances[k] = getLightTimeTolerance(earthSeries, series);
         }
 
-        public Vector getEclipticCoordinates(double T) {
-            T = T / 10.0;
-            switch (mObject) {
-                case Sun:
-                    return new RectangularVector(0, 0, 0);
-                case Mercury:
-                    return new RectangularVector(
-                            A_Mercury.X0(T) + A_Mercury.X1(T) + A_Mercury.X2(T) + A_Mercury.X3(T) + A_Mercury.X4(T) + A_Mercury.X5(T),
-                            A_Mercury.Y0(T) + A_Mercury.Y1(T) + A_Mercury.Y2(T) + A_Mercury.Y3(T) + A_Mercury.Y4(T) + A_Mercury.Y5(T),
-                            A_Mercury.Z0(T) + A_Mercury.Z1(T) + A_Mercury.Z2(T) + A_Mercury.Z3(T) + A_Mercury.Z4(T) + A_Mercury.Z5(T));
-                case Venus:
-                    return new RectangularVector(
-                            A_Venus.X0(T) + A_Venus.X1(T) + A_Venus.X2(T) + A_Venus.X3(T) + A_Venus.X4(T) + A_Venus.X5(T),
-                            A_Venus.Y0(T) + A_Venus.Y1(T) + A_Venus.Y2(T) + A_Venus.Y3(T) + A_Venus.Y4(T) + A_Venus.Y5(T),
-                            A_Venus.Z0(T) + A_Venus.Z1(T) + A_Venus.Z2(T) + A_Venus.Z3(T) + A_Venus.Z4(T) + A_Venus.Z5(T));
-                case Earth:
-                    return new RectangularVector(
-                            A_Earth.X0(T) + A_Earth.X1(T) + A_Earth.X2(T) + A_Earth.X3(T) + A_Earth.X4(T) + A_Earth.X5(T),
-                            A_Earth.Y0(T) + A_Earth.Y1(T) + A_Earth.Y2(T) + A_Earth.Y3(T) + A_Earth.Y4(T) + A_Earth.Y5(T),
-                            A_Earth.Z0(T) + A_Earth.Z1(T) + A_Earth.Z2(T) + A_Earth.Z3(T) + A_Earth.Z4(T) + A_Earth.Z5(T));
-                case Mars:
-                    return new RectangularVector(
-                            A_Mars.X0(T) + A_Mars.X1(T) + A_Mars.X2(T) + A_Mars.X3(T) + A_Mars.X4(T) + A_Mars.X5(T),
-                            A_Mars.Y0(T) + A_Mars.Y1(T) + A_Mars.Y2(T) + A_Mars.Y3(T) + A_Mars.Y4(T) + A_Mars.Y5(T),
-                            A_Mars.Z0(T) + A_Mars.Z1(T) + A_Mars.Z2(T) + A_Mars.Z3(T) + A_Mars.Z4(T) + A_Mars.Z5(T));
-                case Jupiter:
-                    return new RectangularVector(
-                            A_Jupiter.X0(T) + A_Jupiter.X1(T) + A_Jupiter.X2(T) + A_Jupiter.X3(T) + A_Jupiter.X4(T) + A_Jupiter.X5(T),
-                            A_Jupiter.Y0(T) + A_Jupiter.Y1(T) + A_Jupiter.Y2(T) + A_Jupiter.Y3(T) + A_Jupiter.Y4(T) + A_Jupiter.Y5(T),
-                            A_Jupiter.Z0(T) + A_Jupiter.Z1(T) + A_Jupiter.Z2(T) + A_Jupiter.Z3(T) + A_Jupiter.Z4(T) + A_Jupiter.Z5(T));
-                case Saturn:
-                    return new RectangularVector(
-                            A_Saturn.X0(T) + A_Saturn.X1(T) + A_Saturn.X2(T) + A_Saturn.X3(T) + A_Saturn.X4(T) + A_Saturn.X5(T),
-                            A_Saturn.Y0(T) + A_Saturn.Y1(T) + A_Saturn.Y2(T) + A_Saturn.Y3(T) + A_Saturn.Y4(T) + A_Saturn.Y5(T),
-                            A_Saturn.Z0(T) + A_Saturn.Z1(T) + A_Saturn.Z2(T) + A_Saturn.Z3(T) + A_Saturn.Z4(T) + A_Saturn.Z5(T));
-                case Uranus:
-                    return new RectangularVector(
-                            A_Uranus.X0(T) + A_Uranus.X1(T) + A_Uranus.X2(T) + A_Uranus.X3(T) + A_Uranus.X4(T) + A_Uranus.X5(T),
-                            A_Uranus.Y0(T) + A_Uranus.Y1(T) + A_Uranus.Y2(T) + A_Uranus.Y3(T) + A_Uranus.Y4(T) + A_Uranus.Y5(T),
-                            A_Uranus.Z0(T) + A_Uranus.Z1(T) + A_Uranus.Z2(T) + A_Uranus.Z3(T) + A_Uranus.Z4(T) + A_Uranus.Z5(T));
-                case Neptune:
-                    return new RectangularVector(
-                            A_Neptune.X0(T) + A_Neptune.X1(T) + A_Neptune.X2(T) + A_Neptune.X3(T) + A_Neptune.X4(T) + A_Neptune.X5(T),
-                            A_Neptune.Y0(T) + A_Neptune.Y1(T) + A_Neptune.Y2(T) + A_Neptune.Y3(T) + A_Neptune.Y4(T) + A_Neptune.Y5(T),
-                            A_Neptune.Z0(T) + A_Neptune.Z1(T) + A_Neptune.Z2(T) + A_Neptune.Z3(T) + A_Neptune.Z4(T) + A_Neptune.Z5(T));
+        final double[] earthPositions = new double[3 * TILE_SIZE];
+        final double[] earthVelocities = new double[3 * TILE_SIZE];
+        final double[] earth = new double[3];
+        final double[] earthVelocity = new double[3];
+        final double[][] scratch = new double[4][3];
+        for (int start = 0; start < T.length; start += TILE_SIZE) {
+            final int end = Math.min(T.length, start + TILE_SIZE);
+            for (int n = start; n < end; n++) {
+                earthEvaluator.evaluate(T[n] / 10.0, earth, earthVelocity);
+                System.arraycopy(earth, 0, earthPositions, 3 * (n - start), 3);
+                System.arraycopy(earthVelocity, 0, earthVelocities, 3 * (n - start), 3);
+            }
+            for (int k = 0; k < objects.length; k++) {
+                for (int n = start; n < end; n++) {
+                    if (objects[k] == Earth) {
+                        out[k][3 * n] = 0.0;
+                        out[k][3 * n + 1] = 0.0;
+                        out[k][3 * n + 2] = 0.0;
+                        continue;
+                    }
+                    System.arraycopy(earthPositions, 3 * (n - start), earth, 0, 3);
+                    System.arraycopy(earthVelocities, 3 * (n - start), earthVelocity, 0, 3);
+                    getGeocentricEquatorialPosition(T[n], epoch, correction, tolerances[k], earthEvaluator,
+                            earth, earthVelocity, evaluators[k], scratch, out[k], 3 * n);
+                }
             }
-            return null;
         }
     }
 
-    private class PositionApparent {
-        private final VSOP87Objects mObject;
-
-        private PositionApparent(VSOP87Objects object) {
-            mObject = object;
+    /**
+     * Геоцентрические экваториальные координаты по вычисленному состоянию Земли
+     *
+     * @param T              момент в юлианских столетиях
+     * @param earthEvaluator ряды Земли
+     * @param earth          положение Земли на момент T
+     * @param earthVelocity  скорость Земли на момент T в а.е. за юлианское тысячелетие
+     * @param evaluator      ряды объекта, null если ряды равны нулю
+     * @param scratch        рабочие массивы 4 x 3
+     * @param out            результат X, Y, Z
+     * @param offset         индекс X в out
+     */
+    private static void getGeocentricEquatorialPosition(double T, Epoch epoch, LightTimeCorrection correction,
+                                                        double tolerance, VSOP87Evaluator earthEvaluator,
+                                                        double[] earth, double[] earthVelocity,
+                                                        VSOP87Evaluator evaluator, double[][] scratch,
+                                                        double[] out, int offset) {
+        final double[] position = scratch[0];
+        final double[] velocity = scratch[1];
+        if (evaluator != null) {
+            evaluator.evaluate(T / 10.0, position, velocity);
+        } else {
+            for (int i = 0; i < 3; i++) {
+                position[i] = 0.0;
+                velocity[i] = 0.0;
+            }
         }
+        getGeocentricEquatorialPosition(T, epoch, correction, tolerance, earthEvaluator, earth, earthVelocity,
+                evaluator, position, velocity, scratch, out, offset);
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты по вычисленным состояниям Земли и объекта,
+     * общий путь для {@link SolarSystemSnapshot} и {@link VSOP87FloatEvaluator}
+     *
+     * @param T              момент в юлианских столетиях
+     * @param tolerance      допустимая ошибка ряда Тейлора, {@link #getLightTimeTolerance(VSOP87Series, VSOP87Series)}
+     * @param earthEvaluator ряды Земли
+     * @param earth          положение Земли на момент T
+     * @param earthVelocity  скорость Земли на момент T в а.е. за юлианское тысячелетие
+     * @param evaluator      ряды объекта, null если ряды равны нулю
+     * @param position       положение объекта на момент T
+     * @param velocity       скорость объекта на момент T в а.е. за юлианское тысячелетие
+     * @param scratch        рабочие массивы 4 x 3, после вызова scratch[2] - гелиоцентрическое положение
+     *                       объекта на момент T - световое время
+     * @param out            результат X, Y, Z
+     * @param offset         индекс X в out
+     */
+    static void getGeocentricEquatorialPosition(double T, Epoch epoch, LightTimeCorrection correction,
+                                                double tolerance, VSOP87Evaluator earthEvaluator,
+                                                double[] earth, double[] earthVelocity,
+                                                VSOP87Evaluator evaluator, double[] position, double[] velocity,
+                                                double[][] scratch, double[] out, int offset) {
+        final double t = T / 10.0;
+        final double[] retarded = scratch[2];
+        final double[] geocentric = scratch[3];
 
-        public Vector getEclipticCoordinates(double T) {
-            T = T / 10.0;
-            switch (mObject) {
-                case Sun:
-                    return new RectangularVector(0, 0, 0);
-                case Mercury:
-                    return new RectangularVector(
-                            C_Mercury.X0(T) + C_Mercury.X1(T) + C_Mercury.X2(T) + C_Mercury.X3(T) + C_Mercury.X4(T) + C_Mercury.X5(T),
-                            C_Mercury.Y0(T) + C_Mercury.Y1(T) + C_Mercury.Y2(T) + C_Mercury.Y3(T) + C_Mercury.Y4(T) + C_Mercury.Y5(T),
-                            C_Mercury.Z0(T) + C_Mercury.Z1(T) + C_Mercury.Z2(T) + C_Mercury.Z3(T) + C_Mercury.Z4(T) + C_Mercury.Z5(T));
-                case Venus:
-                    return new RectangularVector(
-                            C_Venus.X0(T) + C_Venus.X1(T) + C_Venus.X2(T) + C_Venus.X3(T) + C_Venus.X4(T) + C_Venus.X5(T),
-                            C_Venus.Y0(T) + C_Venus.Y1(T) + C_Venus.Y2(T) + C_Venus.Y3(T) + C_Venus.Y4(T) + C_Venus.Y5(T),
-                            C_Venus.Z0(T) + C_Venus.Z1(T) + C_Venus.Z2(T) + C_Venus.Z3(T) + C_Venus.Z4(T) + C_Venus.Z5(T));
-                case Earth:
-                    return new RectangularVector(
-                            C_Earth.X0(T) + C_Earth.X1(T) + C_Earth.X2(T) + C_Earth.X3(T) + C_Earth.X4(T) + C_Earth.X5(T),
-                            C_Earth.Y0(T) + C_Earth.Y1(T) + C_Earth.Y2(T) + C_Earth.Y3(T) + C_Earth.Y4(T) + C_Earth.Y5(T),
-                            C_Earth.Z0(T) + C_Earth.Z1(T) + C_Earth.Z2(T) + C_Earth.Z3(T) + C_Earth.Z4(T) + C_Earth.Z5(T));
-                case Mars:
-                    return new RectangularVector(
-                            C_Mars.X0(T) + C_Mars.X1(T) + C_Mars.X2(T) + C_Mars.X3(T) + C_Mars.X4(T) + C_Mars.X5(T),
-                            C_Mars.Y0(T) + C_Mars.Y1(T) + C_Mars.Y2(T) + C_Mars.Y3(T) + C_Mars.Y4(T) + C_Mars.Y5(T),
-                            C_Mars.Z0(T) + C_Mars.Z1(T) + C_Mars.Z2(T) + C_Mars.Z3(T) + C_Mars.Z4(T) + C_Mars.Z5(T));
-                case Jupiter:
-                    return new RectangularVector(
-                            C_Jupiter.X0(T) + C_Jupiter.X1(T) + C_Jupiter.X2(T) + C_Jupiter.X3(T) + C_Jupiter.X4(T) + C_Jupiter.X5(T),
-                            C_Jupiter.Y0(T) + C_Jupiter.Y1(T) + C_Jupiter.Y2(T) + C_Jupiter.Y3(T) + C_Jupiter.Y4(T) + C_Jupiter.Y5(T),
-                            C_Jupiter.Z0(T) + C_Jupiter.Z1(T) + C_Jupiter.Z2(T) + C_Jupiter.Z3(T) + C_Jupiter.Z4(T) + C_Jupiter.Z5(T));
-                case Saturn:
-                    return new RectangularVector(
-                            C_Saturn.X0(T) + C_Saturn.X1(T) + C_Saturn.X2(T) + C_Saturn.X3(T) + C_Saturn.X4(T) + C_Saturn.X5(T),
-                            C_Saturn.Y0(T) + C_Saturn.Y1(T) + C_Saturn.Y2(T) + C_Saturn.Y3(T) + C_Saturn.Y4(T) + C_Saturn.Y5(T),
-                            C_Saturn.Z0(T) + C_Saturn.Z1(T) + C_Saturn.Z2(T) + C_Saturn.Z3(T) + C_Saturn.Z4(T) + C_Saturn.Z5(T));
-                case Uranus:
-                    return new RectangularVector(
-                            C_Uranus.X0(T) + C_Uranus.X1(T) + C_Uranus.X2(T) + C_Uranus.X3(T) + C_Uranus.X4(T) + C_Uranus.X5(T),
-                            C_Uranus.Y0(T) + C_Uranus.Y1(T) + C_Uranus.Y2(T) + C_Uranus.Y3(T) + C_Uranus.Y4(T) + C_Uranus.Y5(T),
-                            C_Uranus.Z0(T) + C_Uranus.Z1(T) + C_Uranus.Z2(T) + C_Uranus.Z3(T) + C_Uranus.Z4(T) + C_Uranus.Z5(T));
-                case Neptune:
-                    return new RectangularVector(
-                            C_Neptune.X0(T) + C_Neptune.X1(T) + C_Neptune.X2(T) + C_Neptune.X3(T) + C_Neptune.X4(T) + C_Neptune.X5(T),
-                            C_Neptune.Y0(T) + C_Neptune.Y1(T) + C_Neptune.Y2(T) + C_Neptune.Y3(T) + C_Neptune.Y4(T) + C_Neptune.Y5(T),
-                            C_Neptune.Z0(T) + C_Neptune.Z1(T) + C_Neptune.Z2(T) + C_Neptune.Z3(T) + C_Neptune.Z4(T) + C_Neptune.Z5(T));
+        // световое время в сутках
+        double dT = 0.0;
+        if (correction != LightTimeCorrection.NONE) {
+            dT = getDistance(position, earth) / Constant.C_Light;
+            if (correction == LightTimeCorrection.CONVERGED) {
+                double previous;
+                int iteration = 0;
+                do {
+                    previous = dT;
+                    retard(evaluator, t, position, velocity, dT, tolerance, retarded);
+                    dT = getDistance(retarded, earth) / Constant.C_Light;
+                } while (Math.abs(dT - previous) > LIGHT_TIME_CONVERGENCE && ++iteration < LIGHT_TIME_ITERATIONS);
             }
-            return null;
+        }
+        retard(evaluator, t, position, velocity, dT, tolerance, retarded);
+        T = T - dT / 36525.0;
+        final Matrix matrix;
+        if (epoch == Epoch.APPARENT) {
+            retard(earthEvaluator, t, earth, earthVelocity, dT, tolerance, geocentric);
+            matrix = AstroMath.getNutation(T).Multiply(AstroMath.getEclipticalToEquatorialCoordinates(T));
+        } else {
+            System.arraycopy(earth, 0, geocentric, 0, 3);
+            matrix = J2000_ECLIPTIC_TO_EQUATORIAL;
+        }
+        for (int i = 0; i < 3; i++) geocentric[i] = retarded[i] - geocentric[i];
+        matrix.MultiplyMV(geocentric, 0, out, offset);
+    }
+
+    /**
+     * @return допустимая ошибка ряда Тейлора светового времени: {@link #LIGHT_TIME_TOLERANCE}
+     * или ошибка усеченных рядов, если она больше
+     */
+    static double getLightTimeTolerance(VSOP87Series earthSeries, VSOP87Series series) {
+        return Math.max(LIGHT_TIME_TOLERANCE, Math.max(earthSeries.getTruncationError(), series.getTruncationError()));
+    }
+
+    /**
+     * Геометрические гелиоцентрические эклиптические координаты (без учета светового времени)
+     * на равномерной сетке времени T + i * step
+     * <p/>
+     * Вычисляется значительно быстрее отдельных вызовов, см. {@link VSOP87Evaluator}
+     *
+     * @param T     Юлианские столетия (ET) начала сетки Time in Julian centuries since J2000
+     * @param step  шаг сетки в юлианских столетиях
+     * @param count количество моментов
+     * @param epoch эпоха
+     * @param x     X в а.е., не меньше count элементов
+     * @param y     Y в а.е., не меньше count элементов
+     * @param z     Z в а.е., не меньше count элементов
+     */
+    public void getEclipticPositions(double T, double step, int count, Epoch epoch, double[] x, double[] y, double[] z) {
+        new VSOP87Evaluator(VSOP87Series.get(this, epoch)).evaluate(T / 10.0, step / 10.0, count, x, y, z);
+    }
+
+    /**
+     * Положение на dT суток раньше
+     * <p/>
+     * r - v dT + a dT^2 / 2, a = -GM r / |r|^3. Оценка ошибки: возмущения (Луна для Земли)
+     * до PERTURBATION * |a| и член третьего порядка с производной ускорения не больше 4 GM |v| / r^3.
+     *
+     * @param evaluator ряды объекта, null если ряды равны нулю
+     * @param t         юлианские тысячелетия от J2000 момента положения и скорости
+     * @param position  положение в а.е.
+     * @param velocity  скорость в а.е. за юлианское тысячелетие
+     * @param dT        сдвиг в сутках
+     * @param tolerance допустимая ошибка ряда Тейлора в а.е.
+     * @param out       положение на момент t - dT
+     */
+    static void retard(VSOP87Evaluator evaluator, double t, double[] position, double[] velocity,
+                       double dT, double tolerance, double[] out) {
+        if (evaluator == null || dT == 0.0) {
+            System.arraycopy(position, 0, out, 0, 3);
+            return;
+        }
+        if (getRetardError(position, velocity, dT) > tolerance) {
+            evaluator.evaluate(t - dT / 365250.0, out);
+            return;
+        }
+        final double r2 = position[0] * position[0] + position[1] * position[1] + position[2] * position[2];
+        final double r = Math.sqrt(r2);
+        final double acceleration = Constant.GM_Sun / r2;
+        for (int i = 0; i < 3; i++) {
+            out[i] = position[i] - velocity[i] / 365250.0 * dT - 0.5 * acceleration / r * position[i] * dT * dT;
         }
     }
 
+    /**
+     * Оценка ошибки положения на dT суток раньше по ряду Тейлора второго порядка, см. {@link #retard}
+     *
+     * @param position положение в а.е.
+     * @param velocity скорость в а.е. за юлианское тысячелетие
+     * @param dT       сдвиг в сутках
+     * @return ошибка в а.е.
+     */
+    private static double getRetardError(double[] position, double[] velocity, double dT) {
+        final double r2 = position[0] * position[0] + position[1] * position[1] + position[2] * position[2];
+        final double r = Math.sqrt(r2);
+        final double acceleration = Constant.GM_Sun / r2;
+        // а.е. за юлианское тысячелетие -> а.е. за сутки
+        final double speed = Math.sqrt(velocity[0] * velocity[0] + velocity[1] * velocity[1]
+                + velocity[2] * velocity[2]) / 365250.0;
+        return 0.5 * PERTURBATION * acceleration * dT * dT + 4.0 * acceleration * speed / r * dT * dT * dT / 6.0;
+    }
+
+    /**
+     * Вычислитель рядов текущего потока, создается один раз на поток, точность, эпоху и объект
+     * <p/>
+     * Вызывающий код не должен хранить его между вызовами и передавать в другие потоки.
+     *
+     * @param object    объект
+     * @param epoch     эпоха
+     * @param precision точность рядов
+     * @return вычислитель рядов
+     */
+    static VSOP87Evaluator getEvaluator(VSOP87Objects object, Epoch epoch, VSOP87Precision precision) {
+        final VSOP87Evaluator[] evaluators = EVALUATORS.get();
+        final int index = (precision.ordinal() * EPOCHS + epoch.ordinal()) * OBJECTS + object.ordinal();
+        VSOP87Evaluator evaluator = evaluators[index];
+        if (evaluator == null) {
+            evaluator = new VSOP87Evaluator(VSOP87Series.get(object, epoch, precision));
+            evaluators[index] = evaluator;
+        }
+        return evaluator;
+    }
+
+    private static double getDistance(double[] a, double[] b) {
+        final double dx = a[0] - b[0];
+        final double dy = a[1] - b[1];
+        final double dz = a[2] - b[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private Vector getEclipticCoordinates(double T, Epoch epoch, VSOP87Precision precision) {
+        return VSOP87Series.get(this, epoch, precision).getRectangularVector(T / 10.0);
+    }
 
 }
@@ -0,0 +1,55 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Constant;
+
+/**
+ * Точность усеченных рядов VSOP87
+ * Precision profiles of truncated VSOP87 series
+ * <p/>
+ * Из рядов отбрасываются самые малые члены так, чтобы сумма их максимальных значений
+ * |A| * |t|^order на интервале 2000 г. до н.э. - 6000 г. н.э. (|t| <= 4 тысячелетия)
+ * не превышала допуска. Гарантия для каждого объекта:
+ * <ul>
+ * <li>ошибка гелиоцентрического положения не больше допуска * перигелийное расстояние а.е.
+ * ({@link VSOP87Series#getTruncationError()})</li>
+ * <li>ошибка гелиоцентрического направления не больше допуска</li>
+ * <li>ошибка геоцентрического направления не больше допуска * (r + 1) / Δ,
+ * где r и Δ - гелиоцентрическое и геоцентрическое расстояния объекта</li>
+ * </ul>
+ * Ошибка добавляется к собственной точности VSOP87 (около 1").
+ */
+public enum VSOP87Precision {
+
+    /**
+     * все члены рядов
+     */
+    FULL(0.0),
+    ONE_ARCSECOND(1.0),
+    TEN_ARCSECONDS(10.0),
+    ONE_ARCMINUTE(60.0),
+    /**
+     * для вычислений с результатом во float, см. {@link VSOP87FloatEvaluator}: 2^-20 рад (0.2"),
+     * 16 шагов float единичного вектора, фактическая ошибка не больше 0.031"
+     */
+    FLOAT(0x1p-20 * Constant.ARCS);
+
+    private final double arcseconds;
+
+    private VSOP87Precision(double arcseconds) {
+        this.arcseconds = arcseconds;
+    }
+
+    /**
+     * @return допустимая ошибка направления в угловых секундах
+     */
+    public double getArcseconds() {
+        return arcseconds;
+    }
+
+    /**
+     * @return допустимая ошибка направления в радианах
+     */
+    public double getTolerance() {
+        return arcseconds / Constant.ARCS;
+    }
+}
@@ -0,0 +1,505 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Табличное представление рядов VSOP87 одного объекта
+ * Table-driven evaluation of the VSOP87 series of one body
+ * <p/>
+ * Коэффициенты хранятся упакованными тройками (амплитуда, фаза, частота) в массиве double[]
+ * для каждой пары (координата, степень t). В отличие от сгенерированных классов A_* и C_*
+ * каждый ряд вычисляется одним компактным циклом, который компилируется JIT.
+ * Порядок сложения членов совпадает с исходными классами, результат совпадает побитово.
+ * <p/>
+ * Коэффициенты читаются из сжатых ресурсов A_*.bin и C_*.bin при первом обращении к объекту и
+ * версии рядов: десятичная запись каждого числа (целое и количество знаков) разностями по столбцам,
+ * сжатая Deflate. Для загрузки заранее, например при старте приложения в фоновом потоке, -
+ * {@link #preload(Epoch, VSOP87Objects...)}.
+ * <p/>
+ * Объект неизменяемый и может использоваться из нескольких потоков.
+ */
+public final class VSOP87Series {
+
+    public static final int X = 0;
+    public static final int Y = 1;
+    public static final int Z = 2;
+
+    /**
+     * максимальная степень t в рядах плюс один
+     */
+    public static final int ORDERS = 6;
+
+    /**
+     * граница интервала применимости рядов (2000 г. до н.э. - 6000 г. н.э.) в юлианских тысячелетиях
+     */
+    public static final double T_SPAN = 4.0;
+
+    private static final int BODIES = VSOP87Objects.values().length;
+    private static final int VARIANTS = BODIES * Epoch.values().length;
+    private static final AtomicReferenceArray<VSOP87Series> sCache =
+            new AtomicReferenceArray<VSOP87Series>(VARIANTS * VSOP87Precision.values().length);
+
+    /**
+     * заголовок ресурса коэффициентов "VSOP" и версия формата
+     */
+    static final int RESOURCE_MAGIC = 0x56534F50;
+    static final int RESOURCE_VERSION = 1;
+    /**
+     * признак числа, записанного двоичным double вместо десятичной записи
+     */
+    static final int RAW_DOUBLE = 0xFF;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * точные степени 10 для восстановления коэффициентов из десятичной записи
+     */
+    static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * наименьшее гелиоцентрическое расстояние на интервале применимости в а.е.
+     * с запасом на изменение эксцентриситета, порядок {@link VSOP87Objects}
+     */
+    private static final double[] MIN_DISTANCE = {0.0, 0.30, 0.71, 0.98, 1.35, 4.9, 8.9, 18.2, 29.7};
+
+    /**
+     * коэффициенты [координата * ORDERS + степень] -> {A0, B0, C0, A1, B1, C1, ...}
+     */
+    private final double[][] terms;
+
+    /**
+     * гарантированная ошибка положения из-за отброшенных членов в а.е.
+     */
+    private final double truncationError;
+
+    /**
+     * различные частоты всех рядов объекта, sin и cos вычисляются один раз на частоту
+     */
+    final double[] frequencies;
+    /**
+     * [координата * ORDERS + степень] -> индекс частоты члена в {@link #frequencies}
+     */
+    final int[][] frequencyIndex;
+    /**
+     * [координата * ORDERS + степень] -> {A cos B, A sin B, ...},
+     * A cos(B + C t) = A cos B * cos(C t) - A sin B * sin(C t)
+     */
+    final double[][] rotatedAmplitudes;
+    /**
+     * частоты рядов X и Y - {@link #frequencies}[0 ... xyFrequencies - 1],
+     * частоты ряда Z - {@link #frequencies}[zFrequencies ... length - 1]
+     */
+    final int xyFrequencies;
+    final int zFrequencies;
+
+    private VSOP87Series(double[][] terms, double truncationError) {
+        this.terms = terms;
+        this.truncationError = truncationError;
+        this.frequencyIndex = new int[terms.length][];
+        this.rotatedAmplitudes = new double[terms.length][];
+
+        // различные частоты: сортировка и двоичный поиск без упаковки в Double
+        int count = 0;
+        for (double[] series : terms) count += series.length / 3;
+        double[] sorted = new double[count];
+        count = 0;
+        for (double[] series : terms) {
+            for (int i = 2; i < series.length; i += 3) sorted[count++] = series[i];
+        }
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || Double.compare(sorted[unique - 1], sorted[i]) != 0) sorted[unique++] = sorted[i];
+        }
+        sorted = Arrays.copyOf(sorted, unique);
+
+        // частоты только X, Y -> общие -> только Z, частоты X, Y и частоты Z идут подряд
+        final int[] usage = new int[unique];
+        for (int block = 0; block < terms.length; block++) {
+            final int bit = block / ORDERS == Z ? 2 : 1;
+            final double[] series = terms[block];
+            for (int i = 2; i < series.length; i += 3) usage[Arrays.binarySearch(sorted, series[i])] |= bit;
+        }
+        this.frequencies = new double[unique];
+        final int[] position = new int[unique];
+        final int[] groupEnd = new int[3];
+        int next = 0;
+        final int[] groups = {1, 3, 2};
+        for (int g = 0; g < groups.length; g++) {
+            for (int i = 0; i < unique; i++) {
+                if (usage[i] != groups[g]) continue;
+                position[i] = next;
+                frequencies[next++] = sorted[i];
+            }
+            groupEnd[g] = next;
+        }
+        this.zFrequencies = groupEnd[0];
+        this.xyFrequencies = groupEnd[1];
+
+        for (int block = 0; block < terms.length; block++) {
+            final double[] series = terms[block];
+            final int[] index = new int[series.length / 3];
+            final double[] amplitudes = new double[2 * index.length];
+            for (int i = 0; i < index.length; i++) {
+                final double A = series[3 * i];
+                final double B = series[3 * i + 1];
+                index[i] = position[Arrays.binarySearch(sorted, series[3 * i + 2])];
+                amplitudes[2 * i] = A * Math.cos(B);
+                amplitudes[2 * i + 1] = A * Math.sin(B);
+            }
+            frequencyIndex[block] = index;
+            rotatedAmplitudes[block] = amplitudes;
+        }
+    }
+
+    /**
+     * Ряды объекта
+     *
+     * @param object объект
+     * @param epoch  {@link Epoch#J2000} - версия A (эклиптика и равноденствие J2000),
+     *               {@link Epoch#APPARENT} - версия C (эклиптика и равноденствие даты)
+     * @return ряды, загружаются при первом обращении
+     */
+    public static VSOP87Series get(VSOP87Objects object, Epoch epoch) {
+        return get(object, epoch, VSOP87Precision.FULL);
+    }
+
+    /**
+     * Усеченные ряды объекта
+     *
+     * @param object    объект
+     * @param epoch     {@link Epoch#J2000} - версия A, {@link Epoch#APPARENT} - версия C
+     * @param precision точность, см. {@link VSOP87Precision}
+     * @return ряды, вычисляются при первом обращении
+     */
+    public static VSOP87Series get(VSOP87Objects object, Epoch epoch, VSOP87Precision precision) {
+        final int index = precision.ordinal() * VARIANTS + epoch.ordinal() * BODIES + object.ordinal();
+        VSOP87Series series = sCache.get(index);
+        if (series == null) {
+            if (precision == VSOP87Precision.FULL) {
+                series = load(object, epoch);
+            } else {
+                series = get(object, epoch).truncate(precision.getTolerance() * MIN_DISTANCE[object.ordinal()]);
+            }
+            if (!sCache.compareAndSet(index, null, series)) series = sCache.get(index);
+        }
+        return series;
+    }
+
+    /**
+     * Загрузка полных рядов заранее
+     *
+     * @param epoch   версия рядов
+     * @param objects объекты, без аргументов - все объекты
+     */
+    public static void preload(Epoch epoch, VSOP87Objects... objects) {
+        if (objects.length == 0) objects = VSOP87Objects.values();
+        for (VSOP87Objects object : objects) get(object, epoch);
+    }
+
+    /**
+     * Значение одной координаты
+     *
+     * @param coordinate {@link #X}, {@link #Y} или {@link #Z}
+     * @param t          юлианские тысячелетия от J2000 Time in Julian millennia since J2000
+     * @return координата в а.е.
+     */
+    public double evaluate(int coordinate, double t) {
+        double result = 0.0;
+        for (int order = 0; order < ORDERS; order++) {
+            double sum = sum(terms[coordinate * ORDERS + order], t);
+            for (int i = 0; i < order; i++) sum *= t;
+            result += sum;
+        }
+        return result;
+    }
+
+    /**
+     * Значение одного ряда без множителя t^order
+     *
+     * @param coordinate {@link #X}, {@link #Y} или {@link #Z}
+     * @param order      степень t от 0 до {@link #ORDERS} - 1
+     * @param t          юлианские тысячелетия от J2000
+     * @return сумма членов ряда
+     */
+    public double evaluate(int coordinate, int order, double t) {
+        return sum(terms[coordinate * ORDERS + order], t);
+    }
+
+    /**
+     * Прямоугольные координаты без создания объектов
+     *
+     * @param t   юлианские тысячелетия от J2000
+     * @param out массив не меньше 3 элементов для X, Y, Z в а.е.
+     */
+    public void evaluate(double t, double[] out) {
+        out[X] = evaluate(X, t);
+        out[Y] = evaluate(Y, t);
+        out[Z] = evaluate(Z, t);
+    }
+
+    /**
+     * Прямоугольные координаты
+     *
+     * @param t юлианские тысячелетия от J2000
+     * @return новый вектор в а.е.
+     */
+    public Vector getRectangularVector(double t) {
+        return new RectangularVector(evaluate(X, t), evaluate(Y, t), evaluate(Z, t));
+    }
+
+    /**
+     * Количество членов ряда
+     *
+     * @param coordinate {@link #X}, {@link #Y} или {@link #Z}
+     * @param order      степень t
+     * @return количество членов
+     */
+    public int getTermCount(int coordinate, int order) {
+        return terms[coordinate * ORDERS + order].length / 3;
+    }
+
+    /**
+     * Гарантированная на интервале применимости ошибка положения относительно полных рядов
+     *
+     * @return длина вектора ошибки в а.е., 0 для полных рядов
+     */
+    public double getTruncationError() {
+        return truncationError;
+    }
+
+    /**
+     * Оценка сверху производной положения на интервале применимости |t| <= {@link #T_SPAN}
+     * <p/>
+     * Для члена A t^k cos(B + C t) по формуле Лейбница
+     * |d^n/dt^n| <= |A| * sum_j binom(n, j) k! / (k - j)! |t|^(k - j) |C|^(n - j), сумма по членам каждой
+     * координаты, длина вектора не больше sqrt(3) * наибольшей суммы.
+     *
+     * @param n порядок производной
+     * @return длина вектора производной в а.е. за юлианское тысячелетие в степени n
+     */
+    public double getDerivativeBound(int n) {
+        double bound = 0.0;
+        for (int coordinate = X; coordinate <= Z; coordinate++) {
+            double sum = 0.0;
+            for (int order = 0; order < ORDERS; order++) {
+                final double[] series = terms[coordinate * ORDERS + order];
+                for (int i = 0; i < series.length; i += 3) {
+                    final double frequency = Math.abs(series[i + 2]);
+                    double term = 0.0;
+                    double binomial = 1.0;
+                    double falling = 1.0;
+                    for (int j = 0; j <= Math.min(n, order); j++) {
+                        term += binomial * falling * Math.pow(T_SPAN, order - j) * Math.pow(frequency, n - j);
+                        binomial = binomial * (n - j) / (j + 1);
+                        falling *= order - j;
+                    }
+                    sum += Math.abs(series[i]) * term;
+                }
+            }
+            bound = Math.max(bound, sum);
+        }
+        return Math.sqrt(3.0) * bound;
+    }
+
+    /**
+     * Количество различных частот во всех рядах объекта
+     *
+     * @return количество пар sin/cos вычисляемых {@link VSOP87Evaluator}
+     */
+    public int getFrequencyCount() {
+        return frequencies.length;
+    }
+
+    /**
+     * Копия коэффициентов ряда
+     *
+     * @param coordinate {@link #X}, {@link #Y} или {@link #Z}
+     * @param order      степень t
+     * @return упакованные тройки {A, B, C} члена A * cos(B + C * t)
+     */
+    public double[] getTerms(int coordinate, int order) {
+        return terms[coordinate * ORDERS + order].clone();
+    }
+
+    private static double sum(double[] series, double t) {
+        double sum = 0.0;
+        for (int i = 0; i < series.length; i += 3) {
+            sum += series[i] * Math.cos(series[i + 1] + series[i + 2] * t);
+        }
+        return sum;
+    }
+
+    /**
+     * Отбрасывание малых членов
+     * Для каждой координаты отбрасываются члены с наименьшим |A| * T_SPAN^order, пока их сумма
+     * не превысит maxError / sqrt(3), тогда длина вектора ошибки не больше maxError
+     *
+     * @param maxError допустимая ошибка положения в а.е.
+     * @return новые ряды
+     */
+    private VSOP87Series truncate(double maxError) {
+        final double budget = maxError / Math.sqrt(3.0);
+        final double[][] truncated = new double[terms.length][];
+        double error = 0.0;
+        for (int coordinate = X; coordinate <= Z; coordinate++) {
+            // максимальные значения членов всех степеней координаты
+            int count = 0;
+            for (int order = 0; order < ORDERS; order++) count += getTermCount(coordinate, order);
+            final double[] bounds = new double[count];
+            final boolean[] dropped = new boolean[count];
+            int n = 0;
+            for (int order = 0; order < ORDERS; order++) {
+                final double[] series = terms[coordinate * ORDERS + order];
+                for (int i = 0; i < series.length; i += 3) {
+                    bounds[n++] = Math.abs(series[i]) * Math.pow(T_SPAN, order);
+                }
+            }
+            final double[] sorted = bounds.clone();
+            Arrays.sort(sorted);
+            double sum = 0.0;
+            double threshold = -1.0;
+            for (double bound : sorted) {
+                if (sum + bound > budget) break;
+                sum += bound;
+                threshold = bound;
+            }
+            // отбрасываем не больше найденной суммы при равных значениях на границе
+            double droppedSum = 0.0;
+            for (int i = 0; i < count; i++) {
+                if (bounds[i] <= threshold && droppedSum + bounds[i] <= budget) {
+                    dropped[i] = true;
+                    droppedSum += bounds[i];
+                }
+            }
+            error += droppedSum * droppedSum;
+
+            n = 0;
+            for (int order = 0; order < ORDERS; order++) {
+                final double[] series = terms[coordinate * ORDERS + order];
+                final double[] kept = new double[series.length];
+                int length = 0;
+                for (int i = 0; i < series.length; i += 3) {
+                    if (dropped[n++]) continue;
+                    kept[length++] = series[i];
+                    kept[length++] = series[i + 1];
+                    kept[length++] = series[i + 2];
+                }
+                truncated[coordinate * ORDERS + order] = Arrays.copyOf(kept, length);
+            }
+        }
+        return new VSOP87Series(truncated, Math.sqrt(error));
+    }
+
+    static String getResourceName(VSOP87Objects object, Epoch epoch) {
+        return (epoch == Epoch.J2000 ? "A_" : "C_") + object.name() + ".bin";
+    }
+
+    private static VSOP87Series load(VSOP87Objects object, Epoch epoch) {
+        final double[][] terms = new double[3 * ORDERS][];
+        if (object == VSOP87Objects.Sun) {
+            Arrays.fill(terms, new double[0]);
+            return new VSOP87Series(terms, 0.0);
+        }
+        final String name = getResourceName(object, epoch);
+        final byte[] data;
+        try {
+            data = inflate(name);
+        } catch (IOException e) {
+            throw new IllegalStateException("VSOP87 resource read error: " + name, e);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("VSOP87 resource read error: " + name, e);
+        }
+        // разбор одним циклом по массиву, без вызовов потоков на каждый байт
+        int position = 0;
+        try {
+            final int magic = (data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF);
+            if (magic != RESOURCE_MAGIC || (data[4] & 0xFF) != RESOURCE_VERSION) {
+                throw new IllegalStateException("VSOP87 resource has unknown format: " + name);
+            }
+            position = 5;
+            for (int block = 0; block < terms.length; block++) {
+                int count = 0;
+                for (int shift = 0; ; shift += 7) {
+                    final int b = data[position++];
+                    count |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+                final double[] series = new double[3 * count];
+                // столбцы A, B, C, целые записаны разностью с предыдущим целым столбца
+                for (int column = 0; column < 3; column++) {
+                    long unscaled = 0;
+                    for (int i = column; i < series.length; i += 3) {
+                        final int scale = data[position++] & 0xFF;
+                        if (scale == RAW_DOUBLE) {
+                            long bits = 0;
+                            for (int j = 0; j < 8; j++) bits = bits << 8 | (data[position++] & 0xFF);
+                            series[i] = Double.longBitsToDouble(bits);
+                            continue;
+                        }
+                        long delta = 0;
+                        for (int shift = 0; ; shift += 7) {
+                            final int b = data[position++];
+                            delta |= (long) (b & 0x7F) << shift;
+                            if (b >= 0) break;
+                        }
+                        unscaled += (delta >>> 1) ^ -(delta & 1);
+                        series[i] = unscaled / POWERS_OF_TEN[scale];
+                    }
+                }
+                terms[block] = series;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("VSOP87 resource is incomplete: " + name, e);
+        }
+        if (position != data.length) throw new IllegalStateException("VSOP87 resource is corrupted: " + name);
+        return new VSOP87Series(terms, 0.0);
+    }
+
+    /**
+     * @param name имя ресурса
+     * @return распакованное содержимое ресурса
+     */
+    private static byte[] inflate(String name) throws IOException, DataFormatException {
+        final InputStream stream = VSOP87Series.class.getResourceAsStream(name);
+        if (stream == null) throw new IllegalStateException("VSOP87 resource not found: " + name);
+        byte[] input = new byte[BUFFER_SIZE];
+        int length = 0;
+        try {
+            int read;
+            while ((read = stream.read(input, length, input.length - length)) > 0) {
+                length += read;
+                if (length == input.length) input = Arrays.copyOf(input, 2 * input.length);
+            }
+        } finally {
+            stream.close();
+        }
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, 0, length);
+            // распакованные ряды примерно в 3 раза больше сжатых
+            byte[] output = new byte[4 * length];
+            int size = 0;
+            while (!inflater.finished()) {
+                if (size == output.length) output = Arrays.copyOf(output, 2 * output.length);
+                final int inflated = inflater.inflate(output, size, output.length - size);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("VSOP87 resource is truncated: " + name);
+                }
+                size += inflated;
+            }
+            return Arrays.copyOf(output, size);
+        } finally {
+            inflater.end();
+        }
+    }
+}
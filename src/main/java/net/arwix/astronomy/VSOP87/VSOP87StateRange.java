@@ -0,0 +1,297 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Геометрические гелиоцентрические эклиптические состояния объектов на равномерной сетке времени
+ * Lazily evaluated, splittable time range of body states for long-span ephemeris generation
+ * <p/>
+ * Диапазон из count моментов T = startT + i * step вычисляется частями по {@link #CHUNK_SIZE} моментов
+ * ({@link Chunk}) только при обходе. В части sin/cos частот поворачиваются от момента к моменту
+ * ({@link VSOP87Evaluator#evaluate(double, double, int, double[], double[])}), вычислители рядов
+ * у каждого потока свои и не создаются повторно.
+ * <p/>
+ * Части независимы, границы частей отсчитываются от начала исходного диапазона, поэтому результат не
+ * зависит от деления ({@link #trySplit()}), исполнителя и количества потоков:
+ * <ul>
+ * <li>{@link #forEachChunk(ChunkVisitor)} - последовательно в текущем потоке</li>
+ * <li>{@link #forEachChunk(ExecutorService, ChunkVisitor)} - части вычисляются исполнителем,
+ * посетитель получает их по порядку в текущем потоке</li>
+ * <li>{@link #fill(ForkJoinPool, double[][], double[][])} - заполнение массивов задачами ForkJoin</li>
+ * </ul>
+ * Деление изменяет объект (как Spliterator), после деления части можно обходить в разных потоках.
+ */
+public class VSOP87StateRange {
+
+    /**
+     * количество моментов в части, кратно {@link VSOP87Evaluator#RESEED_INTERVAL}
+     */
+    public static final int CHUNK_SIZE = 4 * VSOP87Evaluator.RESEED_INTERVAL;
+
+    /**
+     * Моменты from ... from + count - 1 диапазона
+     * <p/>
+     * Массивы используются повторно: данные действительны только внутри {@link ChunkVisitor#visit(Chunk)}
+     */
+    public static final class Chunk {
+        /**
+         * индекс первого момента части в диапазоне
+         */
+        public long from;
+        public int count;
+        /**
+         * [индекс объекта] -> X, Y, Z моментов подряд в а.е.
+         */
+        public final double[][] positions;
+        /**
+         * [индекс объекта] -> dX/dt, dY/dt, dZ/dt моментов подряд в а.е. за сутки
+         */
+        public final double[][] velocities;
+
+        private Chunk(int objects) {
+            this.positions = new double[objects][3 * CHUNK_SIZE];
+            this.velocities = new double[objects][3 * CHUNK_SIZE];
+        }
+    }
+
+    public interface ChunkVisitor {
+        void visit(Chunk chunk);
+    }
+
+    private final VSOP87Objects[] objects;
+    private final VSOP87Series[] series;
+    /**
+     * начало исходного диапазона и шаг в юлианских тысячелетиях
+     */
+    private final double startT;
+    private final double step;
+    /**
+     * вычислители рядов объектов каждого потока, общие для всех частей исходного диапазона
+     */
+    private final ThreadLocal<VSOP87Evaluator[]> evaluators;
+    /**
+     * индексы моментов [from, to) исходного диапазона
+     */
+    private long from;
+    private final long to;
+
+    /**
+     * @param objects объекты
+     * @param epoch   эпоха
+     * @param startT  первый момент в юлианских столетиях (ET) от J2000
+     * @param step    шаг в сутках
+     * @param count   количество моментов
+     */
+    public VSOP87StateRange(VSOP87Objects[] objects, Epoch epoch, double startT, double step, long count) {
+        if (count < 0) throw new IllegalArgumentException("count < 0");
+        this.objects = objects.clone();
+        this.series = new VSOP87Series[objects.length];
+        for (int i = 0; i < objects.length; i++) series[i] = VSOP87Series.get(objects[i], epoch);
+        this.startT = startT / 10.0;
+        this.step = step / 365250.0;
+        this.evaluators = new ThreadLocal<VSOP87Evaluator[]>() {
+            @Override
+            protected VSOP87Evaluator[] initialValue() {
+                final VSOP87Evaluator[] evaluators = new VSOP87Evaluator[series.length];
+                for (int i = 0; i < series.length; i++) evaluators[i] = new VSOP87Evaluator(series[i]);
+                return evaluators;
+            }
+        };
+        this.from = 0;
+        this.to = count;
+    }
+
+    private VSOP87StateRange(VSOP87StateRange range, long from, long to) {
+        this.objects = range.objects;
+        this.series = range.series;
+        this.startT = range.startT;
+        this.step = range.step;
+        this.evaluators = range.evaluators;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return объекты в порядке {@link Chunk#positions}
+     */
+    public VSOP87Objects[] getObjects() {
+        return objects.clone();
+    }
+
+    /**
+     * @return количество оставшихся моментов
+     */
+    public long size() {
+        return to - from;
+    }
+
+    /**
+     * @return индекс первого оставшегося момента в исходном диапазоне
+     */
+    public long getFrom() {
+        return from;
+    }
+
+    /**
+     * @param index индекс момента в исходном диапазоне
+     * @return момент в юлианских столетиях (ET) от J2000
+     */
+    public double getT(long index) {
+        return 10.0 * (startT + index * step);
+    }
+
+    /**
+     * Отделение первой половины оставшихся моментов по границе части
+     *
+     * @return первая половина, этот объект - вторая половина; null, если остается не больше одной части
+     */
+    public VSOP87StateRange trySplit() {
+        final long firstChunk = from / CHUNK_SIZE;
+        final long chunks = (to + CHUNK_SIZE - 1) / CHUNK_SIZE - firstChunk;
+        if (chunks < 2) return null;
+        final long middle = (firstChunk + chunks / 2) * CHUNK_SIZE;
+        final VSOP87StateRange prefix = new VSOP87StateRange(this, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    /**
+     * Последовательный обход оставшихся моментов в текущем потоке
+     *
+     * @param visitor получатель частей по порядку
+     */
+    public void forEachChunk(ChunkVisitor visitor) {
+        final Chunk chunk = new Chunk(objects.length);
+        while (from < to) {
+            evaluate(chunk, from);
+            from += chunk.count;
+            visitor.visit(chunk);
+        }
+    }
+
+    /**
+     * Параллельный обход оставшихся моментов
+     * <p/>
+     * Части вычисляются исполнителем, одновременно не больше двух частей на поток исполнителя;
+     * посетитель вызывается в текущем потоке по порядку моментов.
+     *
+     * @param executor исполнитель, например {@link ForkJoinPool}
+     * @param visitor  получатель частей по порядку
+     * @throws InterruptedException текущий поток прерван, невычисленные части отменяются
+     */
+    public void forEachChunk(ExecutorService executor, ChunkVisitor visitor) throws InterruptedException {
+        final int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        final int window = 2 * Math.max(1, parallelism);
+        final ConcurrentLinkedQueue<Chunk> free = new ConcurrentLinkedQueue<Chunk>();
+        final ArrayDeque<Future<Chunk>> pending = new ArrayDeque<Future<Chunk>>(window);
+        long next = from;
+        try {
+            while (from < to) {
+                while (pending.size() < window && next < to) {
+                    final long chunkFrom = next;
+                    pending.add(executor.submit(new Callable<Chunk>() {
+                        @Override
+                        public Chunk call() {
+                            Chunk chunk = free.poll();
+                            if (chunk == null) chunk = new Chunk(objects.length);
+                            evaluate(chunk, chunkFrom);
+                            return chunk;
+                        }
+                    }));
+                    next = chunkEnd(next);
+                }
+                final Chunk chunk;
+                try {
+                    chunk = pending.poll().get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+                from += chunk.count;
+                visitor.visit(chunk);
+                free.add(chunk);
+            }
+        } finally {
+            for (Future<Chunk> future : pending) future.cancel(false);
+        }
+    }
+
+    /**
+     * Параллельное заполнение массивов оставшимися моментами
+     *
+     * @param pool       пул потоков
+     * @param positions  [индекс объекта] -> X, Y, Z моментов подряд в а.е., не меньше 3 * {@link #size()}
+     * @param velocities [индекс объекта] -> скорости в а.е. за сутки, не меньше 3 * {@link #size()}
+     */
+    public void fill(ForkJoinPool pool, double[][] positions, double[][] velocities) {
+        if (3 * size() > Integer.MAX_VALUE) throw new IllegalArgumentException("range is too large for arrays");
+        pool.invoke(new FillTask(new VSOP87StateRange(this, from, to), from, positions, velocities));
+        from = to;
+    }
+
+    private static class FillTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final VSOP87StateRange range;
+        private final long origin;
+        private final double[][] positions;
+        private final double[][] velocities;
+
+        FillTask(VSOP87StateRange range, long origin, double[][] positions, double[][] velocities) {
+            this.range = range;
+            this.origin = origin;
+            this.positions = positions;
+            this.velocities = velocities;
+        }
+
+        @Override
+        protected void compute() {
+            final VSOP87StateRange prefix = range.trySplit();
+            if (prefix != null) {
+                invokeAll(new FillTask(prefix, origin, positions, velocities),
+                        new FillTask(range, origin, positions, velocities));
+                return;
+            }
+            final Chunk chunk = new Chunk(range.objects.length);
+            while (range.from < range.to) {
+                range.evaluate(chunk, range.from);
+                final int offset = (int) (3 * (chunk.from - origin));
+                for (int i = 0; i < positions.length; i++) {
+                    System.arraycopy(chunk.positions[i], 0, positions[i], offset, 3 * chunk.count);
+                    System.arraycopy(chunk.velocities[i], 0, velocities[i], offset, 3 * chunk.count);
+                }
+                range.from += chunk.count;
+            }
+        }
+    }
+
+    private long chunkEnd(long index) {
+        return Math.min(to, (index / CHUNK_SIZE + 1) * CHUNK_SIZE);
+    }
+
+    /**
+     * Вычисление части, которая начинается с момента index (граница части или конец предыдущей части)
+     */
+    private void evaluate(Chunk chunk, long index) {
+        final int count = (int) (chunkEnd(index) - index);
+        final VSOP87Evaluator[] evaluators = this.evaluators.get();
+        final double t = startT + index * step;
+        for (int i = 0; i < evaluators.length; i++) {
+            final double[] velocities = chunk.velocities[i];
+            evaluators[i].evaluate(t, step, count, chunk.positions[i], velocities);
+            // а.е. за юлианское тысячелетие -> а.е. за сутки
+            for (int j = 0; j < 3 * count; j++) velocities[j] /= 365250.0;
+        }
+        chunk.from = index;
+        chunk.count = count;
+    }
+}
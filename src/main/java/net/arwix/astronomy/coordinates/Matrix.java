@@ -166,6 +166,48 @@ public class Matrix {
         return MultiplyMV(this, vector);
     }
 
+    /**
+     * матричное векторное умножение текущей матрицы на вектор без создания объектов,
+     * результат совпадает с {@link #MultiplyMV(Vector)}
+     *
+     * @param in        прямоугольные координаты X, Y, Z
+     * @param inOffset  индекс X в in
+     * @param out       результат, может совпадать с in
+     * @param outOffset индекс X в out
+     */
+    public void MultiplyMV(double[] in, int inOffset, double[] out, int outOffset) {
+        final double x = in[inOffset];
+        final double y = in[inOffset + 1];
+        final double z = in[inOffset + 2];
+        for (int i = 0; i < 3; i++) {
+            out[outOffset + i] = elements[i][0] * x + elements[i][1] * y + elements[i][2] * z;
+        }
+    }
+
+    /**
+     * матричное векторное умножение текущей матрицы на массив векторов в одинарной точности
+     * без создания объектов, элементы матрицы приводятся к float
+     *
+     * @param in        прямоугольные координаты X, Y, Z векторов подряд
+     * @param inOffset  индекс X первого вектора в in
+     * @param out       результат, может совпадать с in
+     * @param outOffset индекс X первого вектора в out
+     * @param count     количество векторов
+     */
+    public void MultiplyMV(float[] in, int inOffset, float[] out, int outOffset, int count) {
+        final float m00 = (float) elements[0][0], m01 = (float) elements[0][1], m02 = (float) elements[0][2];
+        final float m10 = (float) elements[1][0], m11 = (float) elements[1][1], m12 = (float) elements[1][2];
+        final float m20 = (float) elements[2][0], m21 = (float) elements[2][1], m22 = (float) elements[2][2];
+        for (int i = 0; i < count; i++) {
+            final float x = in[inOffset + 3 * i];
+            final float y = in[inOffset + 3 * i + 1];
+            final float z = in[inOffset + 3 * i + 2];
+            out[outOffset + 3 * i] = m00 * x + m01 * y + m02 * z;
+            out[outOffset + 3 * i + 1] = m10 * x + m11 * y + m12 * z;
+            out[outOffset + 3 * i + 2] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
     /**
      * матричное векторное умножение, вектора на текущую матрицу
      *
@@ -24,6 +24,14 @@ public class OrthographicProjection {
     public double y;
     public double cosDistance;
 
+    /**
+     * направления на восток и север в центральной точке и на центральную точку в одинарной точности
+     * для {@link #getProjection(float[], int, float, float[], int, int)}
+     */
+    private final float eastX, eastY;
+    private final float northX, northY, northZ;
+    private final float centerX, centerY, centerZ;
+
 
     /**
      * Результирующий класс
@@ -57,6 +65,17 @@ public class OrthographicProjection {
         this.sinT_CP = sin(latitudeCenterPoint);
         this.cosT_CP = cos(latitudeCenterPoint);
         this.longitudeCenterPoint = longitudeCenterPoint;
+
+        final double sinL = sin(longitudeCenterPoint);
+        final double cosL = cos(longitudeCenterPoint);
+        this.eastX = (float) -sinL;
+        this.eastY = (float) cosL;
+        this.northX = (float) (-sinT_CP * cosL);
+        this.northY = (float) (-sinT_CP * sinL);
+        this.northZ = (float) cosT_CP;
+        this.centerX = (float) (cosT_CP * cosL);
+        this.centerY = (float) (cosT_CP * sinL);
+        this.centerZ = (float) sinT_CP;
     }
 
 
@@ -97,6 +116,34 @@ public class OrthographicProjection {
         return new ResultPoint(x, y, cosDistance);
     }
 
+    /**
+     * Пакетное вычисление проекции в одинарной точности без создания объектов
+     * <p/>
+     * Точки задаются прямоугольными координатами (долгота - угол от оси X в плоскости XY, широта - от
+     * плоскости XY), длина вектора не важна. Проекция - скалярные произведения направления на векторы
+     * восток, север и центр проекции, без тригонометрии. Отличие от {@link #getProjection(SphericalVector)}
+     * около 1e-7 * radius. Не изменяет текущий объект, можно использовать в параллельных потоках.
+     *
+     * @param in        прямоугольные координаты X, Y, Z точек подряд
+     * @param inOffset  индекс X первой точки в in
+     * @param radius    радиус сферы
+     * @param out       x, y и cosDistance точек подряд, см. {@link ResultPoint}
+     * @param outOffset индекс x первой точки в out
+     * @param count     количество точек
+     */
+    public void getProjection(float[] in, int inOffset, float radius, float[] out, int outOffset, int count) {
+        for (int i = 0; i < count; i++) {
+            final float x = in[inOffset + 3 * i];
+            final float y = in[inOffset + 3 * i + 1];
+            final float z = in[inOffset + 3 * i + 2];
+            final float inverseNorm = 1.0f / (float) Math.sqrt(x * x + y * y + z * z);
+            final float scale = radius * inverseNorm;
+            out[outOffset + 3 * i] = scale * (eastX * x + eastY * y);
+            out[outOffset + 3 * i + 1] = scale * (northX * x + northY * y + northZ * z);
+            out[outOffset + 3 * i + 2] = inverseNorm * (centerX * x + centerY * y + centerZ * z);
+        }
+    }
+
     /**
      * Иницилизация для пакетной обработки данных если широта константа, долгота меняется
      *
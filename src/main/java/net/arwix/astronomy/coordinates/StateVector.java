@@ -0,0 +1,22 @@
+package net.arwix.astronomy.coordinates;
+
+/**
+ * Вектор состояния: положение и скорость
+ * State vector: position and velocity
+ */
+public class StateVector {
+
+    /**
+     * положение в а.е.
+     */
+    public final Vector position;
+    /**
+     * скорость в а.е. за сутки
+     */
+    public final Vector velocity;
+
+    public StateVector(Vector position, Vector velocity) {
+        this.position = position;
+        this.velocity = velocity;
+    }
+}
@@ -0,0 +1,159 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.AstroMath;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.HeliocentricEclipticCoordinates;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+
+/**
+ * Эфемериды, заданные геометрическими гелиоцентрическими эклиптическими координатами объектов
+ * <p/>
+ * Световое время, нутация и переход к экваториальным координатам вычисляются так же, как в
+ * {@link VSOP87Objects#getHeliocentricEclipticPosition(double, Epoch)} и
+ * {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}
+ */
+public abstract class AbstractEphemeris implements EphemerisProvider {
+
+    /**
+     * @return эпоха координат
+     */
+    public abstract Epoch getEpoch();
+
+    /**
+     * @return начало интервала в юлианских столетиях от J2000
+     */
+    public abstract double getStartT();
+
+    /**
+     * @return конец интервала в юлианских столетиях от J2000
+     */
+    public abstract double getEndT();
+
+    /**
+     * @return допустимая ошибка положения в а.е.
+     */
+    public abstract double getTolerance();
+
+    /**
+     * @param object объект
+     * @return true если координаты объекта есть в эфемеридах
+     */
+    public abstract boolean contains(VSOP87Objects object);
+
+    /**
+     * Геометрические гелиоцентрические эклиптические координаты без создания объектов
+     *
+     * @param object объект
+     * @param T      юлианские столетия от J2000
+     * @param out    массив не меньше 3 элементов для X, Y, Z в а.е.
+     */
+    public abstract void getEclipticPosition(VSOP87Objects object, double T, double[] out);
+
+    /**
+     * get geometric heliocentric ecliptic coordinates (minus 1-way light-time)
+     *
+     * @param object объект
+     * @param T      юлианские столетия от J2000
+     * @return Vector
+     */
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T) {
+        final double[] earth = new double[3];
+        final double[] position = new double[3];
+        getEclipticPosition(VSOP87Objects.Earth, T, earth);
+        getEclipticPosition(object, T, position);
+        T = T - getLightTime(position, earth);
+        getEclipticPosition(object, T, position);
+        return new RectangularVector(position);
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты
+     *
+     * @param object объект
+     * @param T      юлианские столетия от J2000
+     * @return Vector
+     */
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T) {
+        final double[] earth = new double[3];
+        final double[] position = new double[3];
+        getEclipticPosition(VSOP87Objects.Earth, T, earth);
+        getEclipticPosition(object, T, position);
+        T = T - getLightTime(position, earth);
+        getEclipticPosition(object, T, position);
+        if (getEpoch() == Epoch.APPARENT) {
+            getEclipticPosition(VSOP87Objects.Earth, T, earth);
+            return AstroMath.getNutation(T).Multiply(AstroMath.getEclipticalToEquatorialCoordinates(T))
+                    .MultiplyMV(new RectangularVector(position[0] - earth[0], position[1] - earth[1], position[2] - earth[2]));
+        }
+        return AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000)
+                .MultiplyMV(new RectangularVector(position[0] - earth[0], position[1] - earth[1], position[2] - earth[2]));
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object, Epoch epoch, double T) {
+        return epoch == getEpoch() && contains(object) && T >= getStartT() && T <= getEndT();
+    }
+
+    @Override
+    public double getAccuracy(VSOP87Objects object, Epoch epoch) {
+        return getTolerance();
+    }
+
+    @Override
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T, Epoch epoch) {
+        checkEpoch(epoch);
+        return getHeliocentricEclipticPosition(object, T);
+    }
+
+    @Override
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T, Epoch epoch) {
+        checkEpoch(epoch);
+        return getGeocentricEquatorialPosition(object, T);
+    }
+
+    /**
+     * Координаты объекта по этим эфемеридам через стандартные интерфейсы
+     *
+     * @param object объект
+     * @return координаты, эпоха в вызовах должна совпадать с {@link #getEpoch()}
+     */
+    public Coordinates getCoordinates(VSOP87Objects object) {
+        if (!contains(object)) throw new IllegalArgumentException("Object is not in ephemeris: " + object);
+        return new Coordinates(object);
+    }
+
+    public class Coordinates implements HeliocentricEclipticCoordinates, GeocentricEquatorialCoordinates {
+        private final VSOP87Objects object;
+
+        private Coordinates(VSOP87Objects object) {
+            this.object = object;
+        }
+
+        @Override
+        public Vector getHeliocentricEclipticPosition(double T, Epoch epoch) {
+            checkEpoch(epoch);
+            return AbstractEphemeris.this.getHeliocentricEclipticPosition(object, T);
+        }
+
+        @Override
+        public Vector getGeocentricEquatorialPosition(double T, Epoch epoch) {
+            checkEpoch(epoch);
+            return AbstractEphemeris.this.getGeocentricEquatorialPosition(object, T);
+        }
+    }
+
+    private void checkEpoch(Epoch epoch) {
+        if (epoch != getEpoch()) throw new IllegalArgumentException("Ephemeris epoch is " + getEpoch());
+    }
+
+    private static double getLightTime(double[] position, double[] earth) {
+        final double dx = position[0] - earth[0];
+        final double dy = position[1] - earth[1];
+        final double dz = position[2] - earth[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) / Constant.C_Light / 36525.0;
+    }
+}
@@ -0,0 +1,362 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Evaluator;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Эфемериды в виде отрезков многочленов Чебышева, построенных по рядам VSOP87
+ * Chebyshev-segment ephemeris fitted from VSOP87 (JPL DE style)
+ * <p/>
+ * Для каждого объекта интервал времени делится на равные отрезки, на каждом отрезке
+ * геометрические гелиоцентрические эклиптические координаты X, Y, Z приближаются многочленом
+ * Чебышева степени {@link #DEGREE}. Длина отрезка для объекта уменьшается вдвое, пока ошибка
+ * в точках контроля (экстремумы T_(DEGREE+1) на каждом отрезке, включая концы) больше допуска,
+ * но не меньше чем до суток и не больше чем до {@link #MAX_SEGMENTS} отрезков.
+ * Отрезки строятся параллельно.
+ * <p/>
+ * Объект неизменяемый и потокобезопасный,
+ * {@link #getEclipticPosition(VSOP87Objects, double, double[])} не создает объектов.
+ */
+public class ChebyshevEphemeris extends AbstractEphemeris {
+
+    /**
+     * степень многочленов
+     */
+    public static final int DEGREE = 12;
+
+    /**
+     * запас в начале интервала на световое время (больше 0.3 суток для Нептуна) в юлианских столетиях
+     */
+    private static final double LIGHT_TIME_MARGIN = 1.0 / 36525.0;
+
+    /**
+     * наименьшая длина отрезка (сутки) в юлианских столетиях
+     */
+    private static final double MIN_SEGMENT_LENGTH = 1.0 / 36525.0;
+    /**
+     * наибольшее количество отрезков объекта
+     */
+    private static final int MAX_SEGMENTS = 1 << 20;
+
+    private static final int SIZE = DEGREE + 1;
+    private static final int SEGMENTS_PER_TASK = 64;
+
+    private final Epoch epoch;
+    private final double startT;
+    private final double endT;
+    private final double tolerance;
+    /**
+     * [объект] -> отрезки, null если объект не построен
+     */
+    private final Segments[] segments;
+
+    private static class Segments {
+        final int count;
+        final double length;
+        /**
+         * [отрезок][координата][степень] подряд
+         */
+        final double[] coefficients;
+
+        Segments(int count, double length, double[] coefficients) {
+            this.count = count;
+            this.length = length;
+            this.coefficients = coefficients;
+        }
+    }
+
+    private ChebyshevEphemeris(Epoch epoch, double startT, double endT, double tolerance, Segments[] segments) {
+        this.epoch = epoch;
+        this.startT = startT;
+        this.endT = endT;
+        this.tolerance = tolerance;
+        this.segments = segments;
+    }
+
+    /**
+     * Построение эфемерид, потоки создаются по числу процессоров
+     *
+     * @param objects   объекты, Земля добавляется всегда для геоцентрических координат
+     * @param epoch     эпоха рядов VSOP87
+     * @param startT    начало интервала в юлианских столетиях от J2000
+     * @param endT      конец интервала в юлианских столетиях от J2000
+     * @param tolerance допустимая ошибка положения в а.е.
+     * @return эфемериды
+     */
+    public static ChebyshevEphemeris fit(VSOP87Objects[] objects, Epoch epoch, double startT, double endT, double tolerance) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return fit(objects, epoch, startT, endT, tolerance, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Построение эфемерид
+     *
+     * @param objects   объекты, Земля добавляется всегда для геоцентрических координат
+     * @param epoch     эпоха рядов VSOP87
+     * @param startT    начало интервала в юлианских столетиях от J2000
+     * @param endT      конец интервала в юлианских столетиях от J2000
+     * @param tolerance допустимая ошибка положения в а.е.
+     * @param executor  исполнитель для параллельного построения отрезков
+     * @return эфемериды
+     * @throws IllegalArgumentException если допуск недостижим при наименьшей длине отрезка
+     *                                  (шум вычисления рядов или степень многочленов)
+     */
+    public static ChebyshevEphemeris fit(VSOP87Objects[] objects, Epoch epoch, double startT, double endT,
+                                         double tolerance, ExecutorService executor) {
+        if (!(endT > startT)) throw new IllegalArgumentException("endT <= startT");
+        if (!(tolerance > 0.0)) throw new IllegalArgumentException("tolerance <= 0");
+        final Segments[] segments = new Segments[VSOP87Objects.values().length];
+        final boolean[] selected = new boolean[segments.length];
+        selected[VSOP87Objects.Earth.ordinal()] = true;
+        for (VSOP87Objects object : objects) selected[object.ordinal()] = true;
+
+        // для каждого объекта удваиваем число отрезков, пока ошибка больше допуска
+        final double fitStartT = startT - LIGHT_TIME_MARGIN;
+        final int[] count = new int[segments.length];
+        // наименьшая из наибольших ошибок по попыткам
+        final double[] reached = new double[segments.length];
+        Arrays.fill(reached, Double.POSITIVE_INFINITY);
+        boolean done;
+        do {
+            done = true;
+            final List<Future<Double>> results = new ArrayList<Future<Double>>();
+            final List<Integer> pending = new ArrayList<Integer>();
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                final int index = object.ordinal();
+                if (!selected[index] || segments[index] != null) continue;
+                if (object == VSOP87Objects.Sun) {
+                    segments[index] = new Segments(1, endT - fitStartT, new double[3 * SIZE]);
+                    continue;
+                }
+                if (count[index] != 0 && (2 * count[index] > MAX_SEGMENTS
+                        || (endT - fitStartT) / (2 * count[index]) < MIN_SEGMENT_LENGTH)) {
+                    cancel(results);
+                    throw new IllegalArgumentException(object + ": tolerance " + tolerance
+                            + " AU is not reachable, reached " + reached[index] + " AU with "
+                            + count[index] + " segments");
+                }
+                count[index] = count[index] == 0 ? 1 : 2 * count[index];
+                final Segments body = new Segments(count[index], (endT - fitStartT) / count[index],
+                        new double[count[index] * 3 * SIZE]);
+                final VSOP87Series series = VSOP87Series.get(object, epoch);
+                for (int first = 0; first < body.count; first += SEGMENTS_PER_TASK) {
+                    results.add(executor.submit(new FitTask(series, body, fitStartT, first,
+                            Math.min(body.count, first + SEGMENTS_PER_TASK))));
+                    pending.add(index);
+                }
+                segments[index] = body;
+            }
+            final double[] error = new double[segments.length];
+            for (int i = 0; i < results.size(); i++) {
+                final int index = pending.get(i);
+                try {
+                    error[index] = Math.max(error[index], results.get(i).get());
+                } catch (InterruptedException e) {
+                    cancel(results);
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (ExecutionException e) {
+                    cancel(results);
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            for (int index : pending) {
+                reached[index] = Math.min(reached[index], error[index]);
+                if (error[index] > tolerance) {
+                    segments[index] = null;
+                    done = false;
+                }
+            }
+        } while (!done);
+        return new ChebyshevEphemeris(epoch, startT, endT, tolerance, segments);
+    }
+
+    private static void cancel(List<? extends Future<?>> results) {
+        for (Future<?> result : results) result.cancel(true);
+    }
+
+    /**
+     * Построение отрезков first ... last - 1, результат - наибольшая ошибка в точках контроля в а.е.
+     */
+    private static class FitTask implements Callable<Double> {
+        private final VSOP87Series series;
+        private final Segments body;
+        private final double startT;
+        private final int first;
+        private final int last;
+
+        FitTask(VSOP87Series series, Segments body, double startT, int first, int last) {
+            this.series = series;
+            this.body = body;
+            this.startT = startT;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public Double call() {
+            final VSOP87Evaluator evaluator = new VSOP87Evaluator(series);
+            final double[][] values = new double[SIZE][3];
+            final double[] expected = new double[3];
+            final double[] actual = new double[3];
+            double error = 0.0;
+            for (int segment = first; segment < last; segment++) {
+                final double segmentStart = startT + segment * body.length;
+                // значения в узлах Чебышева x_j = cos(pi (j + 1/2) / SIZE)
+                for (int j = 0; j < SIZE; j++) {
+                    final double x = Math.cos(Math.PI * (j + 0.5) / SIZE);
+                    evaluator.evaluate(toMillennia(segmentStart, body.length, x), values[j]);
+                }
+                final int offset = segment * 3 * SIZE;
+                for (int coordinate = 0; coordinate < 3; coordinate++) {
+                    for (int k = 0; k < SIZE; k++) {
+                        double sum = 0.0;
+                        for (int j = 0; j < SIZE; j++) {
+                            sum += values[j][coordinate] * Math.cos(Math.PI * k * (j + 0.5) / SIZE);
+                        }
+                        body.coefficients[offset + coordinate * SIZE + k] = (k == 0 ? 1.0 : 2.0) * sum / SIZE;
+                    }
+                }
+                // контроль в экстремумах T_SIZE, включая концы отрезка
+                for (int j = 0; j <= SIZE; j++) {
+                    final double x = Math.cos(Math.PI * j / SIZE);
+                    evaluator.evaluate(toMillennia(segmentStart, body.length, x), expected);
+                    evaluate(body.coefficients, offset, x, actual);
+                    final double dx = expected[0] - actual[0];
+                    final double dy = expected[1] - actual[1];
+                    final double dz = expected[2] - actual[2];
+                    error = Math.max(error, Math.sqrt(dx * dx + dy * dy + dz * dz));
+                }
+            }
+            return error;
+        }
+
+        private static double toMillennia(double segmentStart, double length, double x) {
+            return (segmentStart + 0.5 * (x + 1.0) * length) / 10.0;
+        }
+    }
+
+    @Override
+    public Epoch getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public double getStartT() {
+        return startT;
+    }
+
+    @Override
+    public double getEndT() {
+        return endT;
+    }
+
+    /**
+     * @return допустимая ошибка положения в а.е.
+     */
+    @Override
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @param object объект
+     * @return true если объект построен
+     */
+    @Override
+    public boolean contains(VSOP87Objects object) {
+        return segments[object.ordinal()] != null;
+    }
+
+    /**
+     * @param object объект
+     * @return количество отрезков объекта
+     */
+    public int getSegmentCount(VSOP87Objects object) {
+        return getSegments(object).count;
+    }
+
+    /**
+     * Геометрические гелиоцентрические эклиптические координаты без создания объектов
+     *
+     * @param object объект
+     * @param T      юлианские столетия от J2000 в интервале эфемерид
+     * @param out    массив не меньше 3 элементов для X, Y, Z в а.е.
+     */
+    @Override
+    public void getEclipticPosition(VSOP87Objects object, double T, double[] out) {
+        final Segments body = getSegments(object);
+        final double fitStartT = getFitStartT();
+        if (T < fitStartT || T > endT) throw new IndexOutOfBoundsException("T out of range: " + T);
+        final double position = (T - fitStartT) / body.length;
+        int segment = (int) position;
+        if (segment >= body.count) segment = body.count - 1;
+        evaluate(body.coefficients, segment * 3 * SIZE, 2.0 * (position - segment) - 1.0, out);
+    }
+
+    private Segments getSegments(VSOP87Objects object) {
+        final Segments body = segments[object.ordinal()];
+        if (body == null) throw new IllegalArgumentException("Object is not fitted: " + object);
+        return body;
+    }
+
+    /**
+     * @param object объект
+     * @return длина отрезка объекта в юлианских столетиях
+     */
+    double getSegmentLength(VSOP87Objects object) {
+        return getSegments(object).length;
+    }
+
+    /**
+     * @param object объект
+     * @return коэффициенты объекта [отрезок][координата][степень] подряд, без копирования
+     */
+    double[] getCoefficients(VSOP87Objects object) {
+        return getSegments(object).coefficients;
+    }
+
+    /**
+     * @return начало первого отрезка с запасом на световое время
+     */
+    double getFitStartT() {
+        return startT - LIGHT_TIME_MARGIN;
+    }
+
+    /**
+     * Вычисление многочленов Чебышева по схеме Кленшоу
+     *
+     * @param coefficients коэффициенты
+     * @param offset       начало коэффициентов отрезка
+     * @param x            время на отрезке от -1 до 1
+     * @param out          X, Y, Z
+     */
+    static void evaluate(double[] coefficients, int offset, double x, double[] out) {
+        final double x2 = 2.0 * x;
+        for (int coordinate = 0; coordinate < 3; coordinate++) {
+            final int start = offset + coordinate * SIZE;
+            double b0 = 0.0, b1 = 0.0, b2;
+            for (int k = SIZE - 1; k >= 1; k--) {
+                b2 = b1;
+                b1 = b0;
+                b0 = coefficients[start + k] + x2 * b1 - b2;
+            }
+            out[coordinate] = coefficients[start] + x * b0 - b1;
+        }
+    }
+}
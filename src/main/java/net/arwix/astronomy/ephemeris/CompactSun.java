@@ -0,0 +1,236 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.AstroMath;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+
+/**
+ * Компактная модель координат Солнца для восходов, заходов и сумерек
+ * Compact analytic Sun: a few dozen VSOP87 terms for rise/set and twilight
+ * <p/>
+ * Положение Земли - члены рядов VSOP87 C Земли с |A| * 0.3^k >= 3e-6 а.е. (31 член X и 31 член Y
+ * с общими частотами, ряды Z отброшены). Ошибка направления относительно полных рядов не больше
+ * 6.3" в 1700 - 2300 гг. ({@link #T_SPAN}), время восхода и захода отличается меньше секунды.
+ * Световое время учитывается сдвигом Земли на -v dT, видимые координаты - матрицей нутации
+ * как в {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}; J2000 - геометрическое
+ * положение, повернутое прецессией к эклиптике J2000.
+ * <p/>
+ * Используется напрямую ({@code new TwilightEvent(CompactSun.INSTANCE)}) или как источник
+ * {@code EphemerisProviders.register(CompactSun.INSTANCE, VSOP87Objects.Sun)} для координат с явно указанной
+ * точностью {@code EphemerisProviders.getCoordinates(VSOP87Objects.Sun, CompactSun.ACCURACY)};
+ * точность по умолчанию {@link EphemerisProviders#DEFAULT_MAX_ERROR} выбирает полные ряды.
+ * Объект неизменяемый и потокобезопасный.
+ */
+public final class CompactSun implements GeocentricEquatorialCoordinates, EphemerisProvider {
+
+    public static final CompactSun INSTANCE = new CompactSun();
+
+    /**
+     * интервал применимости |T| в юлианских столетиях от J2000
+     */
+    public static final double T_SPAN = 3.0;
+
+    /**
+     * наибольшая ошибка геоцентрического положения Солнца в а.е. (10" на 1.017 а.е.)
+     */
+    public static final double ACCURACY = 10.0 / Constant.ARCS * 1.017;
+
+    /**
+     * [степень t] -> {A, B, C, ...}, A cos(B + C t), t в юлианских тысячелетиях
+     */
+    private static final double[][] X = {
+            // X0
+            {0.99986069925, 1.75347045757, 6283.3196674749,
+                    0.02506324281, 4.93819429098, 0.2438174835,
+                    0.00835274807, 1.71033525539, 12566.3955174663,
+                    1.0466796E-4, 1.66721984219, 18849.4713674577,
+                    3.490608E-5, 4.44373803231, 6282.83203250789,
+                    3.110838E-5, 0.66875189331, 83997.09113559539,
+                    2.561408E-5, 0.5858860749, 529.9347825781,
+                    2.142365E-5, 1.09204474884, 1577.0997249643,
+                    1.709161E-5, 0.49540863237, 6279.7965491259,
+                    1.707934E-5, 6.15314019418, 6286.84278582391,
+                    1.442753E-5, 3.47210398336, 2353.1099712553,
+                    1.113027E-5, 3.69621650479, 5223.4501023187,
+                    9.34484E-6, 6.07385378286, 12036.7045523717,
+                    8.99854E-6, 3.17607463681, 10213.5293636945,
+                    5.6682E-6, 2.15241946891, 1059.6257476727,
+                    6.61858E-6, 1.31175222119, 5753.6287023803,
+                    7.39644E-6, 4.36662524112, 398.3928208917,
+                    6.81381E-6, 2.2181539794, 4705.9761250271,
+                    6.11293E-6, 5.38470180335, 6813.0106325695,
+                    4.51129E-6, 6.09315891204, 5885.1706640667,
+                    4.51985E-6, 1.27931036318, 6257.0213476751,
+                    4.49743E-6, 5.36941929064, 6309.61798727471,
+                    4.06291E-6, 0.54369369385, 6681.46867088311,
+                    5.41115E-6, 0.78670634299, 775.7664288075,
+                    5.46682E-6, 1.46109463961, 14143.7390599141,
+                    5.1378E-6, 4.4369503779, 7860.6632099227},
+            // X1
+            {0.00154550744, 0.64605836878, 0.2438174835,
+                    5.1503383E-4, 6.00263199393, 12566.3955174663,
+                    1.290763E-5, 5.95941652859, 18849.4713674577},
+            // X2
+            {5.2911498E-4, 3.32403354915, 6283.3196674749,
+                    6.074441E-5, 2.05485843872, 0.2438174835}};
+
+    private static final double[][] Y = {
+            // Y0
+            {0.99986069925, 0.18267413078, 6283.3196674749,
+                    0.02506324281, 3.36739796418, 0.2438174835,
+                    0.00835274807, 0.13953892859, 12566.3955174663,
+                    1.0466796E-4, 0.0964235154, 18849.4713674577,
+                    3.490608E-5, 6.0145343591, 6282.83203250789,
+                    3.110838E-5, 5.38114087369, 83997.09113559539,
+                    2.561408E-5, 5.29827505528, 529.9347825781,
+                    2.142365E-5, 2.66284107563, 1577.0997249643,
+                    1.709161E-5, 5.20779761275, 6279.7965491259,
+                    1.707934E-5, 4.58234386738, 6286.84278582391,
+                    1.442753E-5, 1.90130765657, 2353.1099712553,
+                    1.113027E-5, 5.26701283158, 5223.4501023187,
+                    9.34484E-6, 4.50305745607, 12036.7045523717,
+                    8.99854E-6, 1.60527831001, 10213.5293636945,
+                    5.6682E-6, 0.58162314212, 1059.6257476727,
+                    6.61858E-6, 6.02414120157, 5753.6287023803,
+                    7.39644E-6, 2.79582891432, 398.3928208917,
+                    6.81381E-6, 0.6473576526, 4705.9761250271,
+                    6.11293E-6, 3.81390547656, 6813.0106325695,
+                    4.51129E-6, 4.52236258525, 5885.1706640667,
+                    4.51985E-6, 5.99169934357, 6257.0213476751,
+                    4.49743E-6, 3.79862296384, 6309.61798727471,
+                    4.06291E-6, 5.25608267423, 6681.46867088311,
+                    5.41115E-6, 5.49909532338, 775.7664288075,
+                    5.46682E-6, 6.17348361999, 14143.7390599141,
+                    5.1378E-6, 2.86615405111, 7860.6632099227},
+            // Y1
+            {0.00154550744, 5.35844734917, 0.2438174835,
+                    5.1503383E-4, 4.43183566713, 12566.3955174663,
+                    1.290763E-5, 4.3886202018, 18849.4713674577},
+            // Y2
+            {5.2911498E-4, 1.75323722235, 6283.3196674749,
+                    6.074441E-5, 0.48406211192, 0.2438174835}};
+
+    /**
+     * [степень t] -> частоты C, общие для X и Y
+     */
+    private static final double[][] FREQUENCIES = new double[X.length][];
+    /**
+     * [степень t] -> {A cos B, A sin B, ...} членов X и Y
+     */
+    private static final double[][] X_AMPLITUDES = new double[X.length][];
+    private static final double[][] Y_AMPLITUDES = new double[Y.length][];
+
+    static {
+        for (int order = 0; order < X.length; order++) {
+            final int count = X[order].length / 3;
+            FREQUENCIES[order] = new double[count];
+            X_AMPLITUDES[order] = new double[2 * count];
+            Y_AMPLITUDES[order] = new double[2 * count];
+            for (int i = 0; i < count; i++) {
+                FREQUENCIES[order][i] = X[order][3 * i + 2];
+                X_AMPLITUDES[order][2 * i] = X[order][3 * i] * Math.cos(X[order][3 * i + 1]);
+                X_AMPLITUDES[order][2 * i + 1] = X[order][3 * i] * Math.sin(X[order][3 * i + 1]);
+                Y_AMPLITUDES[order][2 * i] = Y[order][3 * i] * Math.cos(Y[order][3 * i + 1]);
+                Y_AMPLITUDES[order][2 * i + 1] = Y[order][3 * i] * Math.sin(Y[order][3 * i + 1]);
+            }
+        }
+    }
+
+    private CompactSun() {
+    }
+
+    /**
+     * Геоцентрические экваториальные координаты Солнца
+     *
+     * @param T     Юлианские столетия (ET) Time in Julian centuries since J2000
+     * @param epoch эпоха
+     * @return Vector
+     */
+    @Override
+    public Vector getGeocentricEquatorialPosition(double T, Epoch epoch) {
+        // X, Y, dX/dt, dY/dt Земли в а.е. и а.е. за юлианское тысячелетие
+        final double[] earth = new double[4];
+        evaluate(T / 10.0, earth);
+
+        switch (epoch) {
+            case APPARENT:
+                // световое время в сутках, Земля на dT раньше
+                final double dT = Math.sqrt(earth[0] * earth[0] + earth[1] * earth[1]) / Constant.C_Light;
+                final double x = -(earth[0] - earth[2] / 365250.0 * dT);
+                final double y = -(earth[1] - earth[3] / 365250.0 * dT);
+                // R_x(-eps-deps)*R_z(-dpsi) по эклиптике даты, z = 0
+                final double[] nutation = new double[3];
+                AstroMath.getNutationAngles(T - dT / 36525.0, nutation);
+                final double cosPsi = Math.cos(nutation[0]);
+                final double sinPsi = Math.sin(nutation[0]);
+                final double eps = nutation[2] + nutation[1];
+                final double x1 = cosPsi * x - sinPsi * y;
+                final double y1 = sinPsi * x + cosPsi * y;
+                return new RectangularVector(x1, Math.cos(eps) * y1, Math.sin(eps) * y1);
+            case J2000:
+                return AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000)
+                        .Multiply(AstroMath.getEclipticalPrecession(T, Constant.T_J2000))
+                        .MultiplyMV(new RectangularVector(-earth[0], -earth[1], 0.0));
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object, Epoch epoch, double T) {
+        return object == VSOP87Objects.Sun && Math.abs(T) <= T_SPAN;
+    }
+
+    @Override
+    public double getAccuracy(VSOP87Objects object, Epoch epoch) {
+        return object == VSOP87Objects.Sun ? ACCURACY : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T, Epoch epoch) {
+        if (object != VSOP87Objects.Sun) throw new IllegalArgumentException(object.name());
+        return new RectangularVector();
+    }
+
+    @Override
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T, Epoch epoch) {
+        if (object != VSOP87Objects.Sun) throw new IllegalArgumentException(object.name());
+        return getGeocentricEquatorialPosition(T, epoch);
+    }
+
+    /**
+     * X, Y Земли и их производные, sin и cos вычисляются один раз на частоту
+     *
+     * @param t   юлианские тысячелетия
+     * @param out X, Y в а.е., dX/dt, dY/dt в а.е. за юлианское тысячелетие
+     */
+    private static void evaluate(double t, double[] out) {
+        double x = 0.0, y = 0.0, dx = 0.0, dy = 0.0;
+        for (int order = FREQUENCIES.length - 1; order >= 0; order--) {
+            final double[] frequencies = FREQUENCIES[order];
+            final double[] ax = X_AMPLITUDES[order];
+            final double[] ay = Y_AMPLITUDES[order];
+            double sx = 0.0, sy = 0.0, sdx = 0.0, sdy = 0.0;
+            for (int i = 0; i < frequencies.length; i++) {
+                final double angle = frequencies[i] * t;
+                final double c = Math.cos(angle);
+                final double s = Math.sin(angle);
+                sx += ax[2 * i] * c - ax[2 * i + 1] * s;
+                sy += ay[2 * i] * c - ay[2 * i + 1] * s;
+                sdx -= frequencies[i] * (ax[2 * i + 1] * c + ax[2 * i] * s);
+                sdy -= frequencies[i] * (ay[2 * i + 1] * c + ay[2 * i] * s);
+            }
+            dx = dx * t + x + sdx;
+            dy = dy * t + y + sdy;
+            x = x * t + sx;
+            y = y * t + sy;
+        }
+        out[0] = x;
+        out[1] = y;
+        out[2] = dx;
+        out[3] = dy;
+    }
+}
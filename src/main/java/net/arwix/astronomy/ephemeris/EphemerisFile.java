@@ -0,0 +1,190 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Двоичный файл эфемерид Чебышева
+ * Binary Chebyshev ephemeris file, read through a memory mapping without copying
+ * <p/>
+ * Формат (версия 1), порядок байт little-endian, все смещения кратны 8:
+ * <pre>
+ *   0  int    MAGIC
+ *   4  int    VERSION
+ *   8  int    эпоха: 0 - J2000, 1 - APPARENT
+ *  12  int    степень многочленов
+ *  16  double startT
+ *  24  double endT
+ *  32  double допустимая ошибка в а.е.
+ *  40  double начало первого отрезка (startT с запасом на световое время)
+ *  48  int    число объектов N
+ *  52  int    0
+ *  56  N записей по 24 байта в порядке {@link VSOP87Objects}:
+ *      int число отрезков (0 - объекта нет), int 0, double длина отрезка, long смещение коэффициентов
+ *  далее коэффициенты объектов, double [отрезок][координата X, Y, Z][степень 0..degree]
+ * </pre>
+ * Чтение ({@link #map(File)}) не зависит от длины интервала: читается только заголовок,
+ * коэффициенты загружаются операционной системой по мере обращения.
+ */
+public final class EphemerisFile {
+
+    public static final int MAGIC = 0x48504541;
+    public static final int VERSION = 1;
+
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final int HEADER_SIZE = 56;
+    static final int ENTRY_SIZE = 24;
+
+    private static final int EPOCH_J2000 = 0;
+    private static final int EPOCH_APPARENT = 1;
+
+    private EphemerisFile() {
+    }
+
+    /**
+     * Запись эфемерид в файл
+     *
+     * @param ephemeris эфемериды
+     * @param file      файл, существующий перезаписывается
+     * @throws IOException
+     */
+    public static void write(ChebyshevEphemeris ephemeris, File file) throws IOException {
+        final VSOP87Objects[] objects = VSOP87Objects.values();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + objects.length * ENTRY_SIZE).order(ORDER);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(ephemeris.getEpoch() == Epoch.J2000 ? EPOCH_J2000 : EPOCH_APPARENT);
+        header.putInt(ChebyshevEphemeris.DEGREE);
+        header.putDouble(ephemeris.getStartT());
+        header.putDouble(ephemeris.getEndT());
+        header.putDouble(ephemeris.getTolerance());
+        header.putDouble(ephemeris.getFitStartT());
+        header.putInt(objects.length);
+        header.putInt(0);
+        long offset = header.capacity();
+        for (VSOP87Objects object : objects) {
+            if (ephemeris.contains(object)) {
+                header.putInt(ephemeris.getSegmentCount(object));
+                header.putInt(0);
+                header.putDouble(ephemeris.getSegmentLength(object));
+                header.putLong(offset);
+                offset += 8L * ephemeris.getCoefficients(object).length;
+            } else {
+                header.putInt(0);
+                header.putInt(0);
+                header.putDouble(0.0);
+                header.putLong(0L);
+            }
+        }
+        if (offset > Integer.MAX_VALUE) throw new IOException("Ephemeris is too large for one file: " + offset + " bytes");
+        header.flip();
+
+        final RandomAccessFile output = new RandomAccessFile(file, "rw");
+        try {
+            output.setLength(0);
+            final FileChannel channel = output.getChannel();
+            while (header.hasRemaining()) channel.write(header);
+            final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ORDER);
+            final DoubleBuffer values = buffer.asDoubleBuffer();
+            for (VSOP87Objects object : objects) {
+                if (!ephemeris.contains(object)) continue;
+                final double[] coefficients = ephemeris.getCoefficients(object);
+                for (int i = 0; i < coefficients.length; i += values.capacity()) {
+                    final int length = Math.min(values.capacity(), coefficients.length - i);
+                    values.clear();
+                    values.put(coefficients, i, length);
+                    buffer.position(0).limit(8 * length);
+                    while (buffer.hasRemaining()) channel.write(buffer);
+                }
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Отображение файла эфемерид в память
+     *
+     * @param file файл, записанный {@link #write(ChebyshevEphemeris, File)}
+     * @return эфемериды, читающие коэффициенты прямо из отображения
+     * @throws IOException если файл не является файлом эфемерид или версия не поддерживается
+     */
+    public static MappedEphemeris map(File file) throws IOException {
+        final RandomAccessFile input = new RandomAccessFile(file, "r");
+        final MappedByteBuffer buffer;
+        try {
+            // отображение остается действительным после закрытия канала
+            buffer = input.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, input.length());
+        } finally {
+            input.close();
+        }
+        buffer.order(ORDER);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an ephemeris file: " + file);
+        }
+        final int version = buffer.getInt(4);
+        if (version != VERSION) throw new IOException("Unsupported ephemeris file version " + version + ": " + file);
+        final int epochCode = buffer.getInt(8);
+        if (epochCode != EPOCH_J2000 && epochCode != EPOCH_APPARENT) {
+            throw new IOException("Unknown epoch " + epochCode + ": " + file);
+        }
+        if (buffer.getInt(12) != ChebyshevEphemeris.DEGREE) {
+            throw new IOException("Unsupported polynomial degree " + buffer.getInt(12) + ": " + file);
+        }
+        final int objectCount = buffer.getInt(48);
+        if (objectCount > VSOP87Objects.values().length || HEADER_SIZE + objectCount * ENTRY_SIZE > buffer.capacity()) {
+            throw new IOException("Corrupted ephemeris header: " + file);
+        }
+
+        final int size = 3 * (ChebyshevEphemeris.DEGREE + 1);
+        final int[] counts = new int[VSOP87Objects.values().length];
+        final double[] lengths = new double[counts.length];
+        final int[] offsets = new int[counts.length];
+        for (int i = 0; i < objectCount; i++) {
+            final int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            counts[i] = buffer.getInt(entry);
+            if (counts[i] == 0) continue;
+            lengths[i] = buffer.getDouble(entry + 8);
+            final long offset = buffer.getLong(entry + 16);
+            if (counts[i] < 0 || offset % 8 != 0 || offset + 8L * size * counts[i] > buffer.capacity()) {
+                throw new IOException("Corrupted ephemeris header: " + file);
+            }
+            offsets[i] = (int) (offset / 8);
+        }
+        if (counts[VSOP87Objects.Earth.ordinal()] == 0) throw new IOException("Ephemeris has no Earth: " + file);
+
+        buffer.position(0);
+        return new MappedEphemeris(epochCode == EPOCH_J2000 ? Epoch.J2000 : Epoch.APPARENT,
+                buffer.getDouble(16), buffer.getDouble(24), buffer.getDouble(32), buffer.getDouble(40),
+                counts, lengths, offsets, buffer.asDoubleBuffer());
+    }
+
+    /**
+     * Построение и запись эфемерид всех объектов
+     * <p/>
+     * Аргументы: файл, startT, endT (юлианские столетия от J2000), допустимая ошибка в а.е.,
+     * эпоха APPARENT или J2000 (по умолчанию APPARENT)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: EphemerisFile <file> <startT> <endT> <tolerance AU> [APPARENT|J2000]");
+            System.exit(1);
+        }
+        final Epoch epoch = args.length > 4 ? Epoch.valueOf(args[4]) : Epoch.APPARENT;
+        final long start = System.nanoTime();
+        final ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(VSOP87Objects.values(), epoch,
+                Double.parseDouble(args[1]), Double.parseDouble(args[2]), Double.parseDouble(args[3]));
+        final File file = new File(args[0]);
+        write(ephemeris, file);
+        System.out.println(file + ": " + file.length() + " bytes, " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
@@ -0,0 +1,47 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Vector;
+
+/**
+ * Источник координат объектов для {@link EphemerisProviders}
+ * Ephemeris backend: VSOP87 series, truncated series, precomputed tables, caches
+ * <p/>
+ * Реализация должна быть потокобезопасной, координаты вычисляются так же, как в
+ * {@link VSOP87Objects#getHeliocentricEclipticPosition(double, Epoch)} и
+ * {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)}
+ */
+public interface EphemerisProvider {
+
+    /**
+     * @param object объект
+     * @param epoch  эпоха
+     * @param T      юлианские столетия от J2000
+     * @return true если источник может вычислить координаты объекта в момент T
+     */
+    public boolean contains(VSOP87Objects object, Epoch epoch, double T);
+
+    /**
+     * @param object объект
+     * @param epoch  эпоха
+     * @return наибольшая ошибка положения относительно полных рядов VSOP87 в а.е.
+     */
+    public double getAccuracy(VSOP87Objects object, Epoch epoch);
+
+    /**
+     * @param object объект
+     * @param T      юлианские столетия от J2000
+     * @param epoch  эпоха
+     * @return гелиоцентрические эклиптические координаты (minus 1-way light-time) в а.е.
+     */
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T, Epoch epoch);
+
+    /**
+     * @param object объект
+     * @param T      юлианские столетия от J2000
+     * @param epoch  эпоха
+     * @return геоцентрические экваториальные координаты в а.е.
+     */
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T, Epoch epoch);
+}
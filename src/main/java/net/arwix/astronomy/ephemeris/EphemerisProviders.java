@@ -0,0 +1,146 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.HeliocentricEclipticCoordinates;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Реестр источников координат
+ * Ephemeris provider registry used by the event and physic calculators
+ * <p/>
+ * Источник выбирается при каждом вычислении: последний зарегистрированный источник, который
+ * содержит объект, эпоху и момент времени и точность которого не хуже требуемой. Если такого нет,
+ * используются полные ряды {@link VSOP87Provider#FULL}.
+ * <p/>
+ * Требуемая точность по умолчанию {@link #DEFAULT_MAX_ERROR} - уровень точности самих рядов VSOP87:
+ * источник с меньшей точностью (например {@link CompactSun} или усеченные ряды) используется только
+ * там, где точность указана явно ({@link #getCoordinates(VSOP87Objects, double)}).
+ */
+public final class EphemerisProviders {
+
+    /**
+     * допустимая ошибка положения по умолчанию в а.е. (0.002" на 1 а.е.), порядок точности теории VSOP87
+     */
+    public static final double DEFAULT_MAX_ERROR = 1e-8;
+
+    private static final CopyOnWriteArrayList<Registration> sRegistrations = new CopyOnWriteArrayList<Registration>();
+
+    private static class Registration {
+        final EphemerisProvider provider;
+        /**
+         * [объект] -> true если источник зарегистрирован для объекта
+         */
+        final boolean[] objects;
+
+        Registration(EphemerisProvider provider, boolean[] objects) {
+            this.provider = provider;
+            this.objects = objects;
+        }
+    }
+
+    private EphemerisProviders() {
+    }
+
+    /**
+     * Регистрация источника для всех объектов, которые он содержит
+     *
+     * @param provider источник
+     */
+    public static void register(EphemerisProvider provider) {
+        register(provider, VSOP87Objects.values());
+    }
+
+    /**
+     * Регистрация источника для выбранных объектов
+     *
+     * @param provider источник
+     * @param objects  объекты
+     */
+    public static void register(EphemerisProvider provider, VSOP87Objects... objects) {
+        if (provider == null) throw new NullPointerException();
+        final boolean[] selected = new boolean[VSOP87Objects.values().length];
+        for (VSOP87Objects object : objects) selected[object.ordinal()] = true;
+        sRegistrations.add(0, new Registration(provider, selected));
+    }
+
+    /**
+     * Удаление всех регистраций источника
+     *
+     * @param provider источник
+     */
+    public static void unregister(EphemerisProvider provider) {
+        for (Registration registration : sRegistrations) {
+            if (registration.provider == provider) sRegistrations.remove(registration);
+        }
+    }
+
+    /**
+     * Выбор источника
+     *
+     * @param object   объект
+     * @param epoch    эпоха
+     * @param T        юлианские столетия от J2000
+     * @param maxError допустимая ошибка положения в а.е.
+     * @return источник, {@link VSOP87Provider#FULL} если ни один не подходит
+     */
+    public static EphemerisProvider select(VSOP87Objects object, Epoch epoch, double T, double maxError) {
+        for (Registration registration : sRegistrations) {
+            if (registration.objects[object.ordinal()]
+                    && registration.provider.contains(object, epoch, T)
+                    && registration.provider.getAccuracy(object, epoch) <= maxError) {
+                return registration.provider;
+            }
+        }
+        return VSOP87Provider.FULL;
+    }
+
+    /**
+     * Координаты объекта через зарегистрированные источники с точностью не хуже {@link #DEFAULT_MAX_ERROR}
+     *
+     * @param object объект
+     * @return координаты
+     */
+    public static Coordinates getCoordinates(VSOP87Objects object) {
+        return getCoordinates(object, DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Координаты объекта через зарегистрированные источники
+     *
+     * @param object   объект
+     * @param maxError допустимая ошибка положения в а.е.
+     * @return координаты
+     */
+    public static Coordinates getCoordinates(VSOP87Objects object, double maxError) {
+        if (object == null) throw new NullPointerException();
+        return new Coordinates(object, maxError);
+    }
+
+    public static class Coordinates implements HeliocentricEclipticCoordinates, GeocentricEquatorialCoordinates {
+        private final VSOP87Objects object;
+        private final double maxError;
+
+        private Coordinates(VSOP87Objects object, double maxError) {
+            this.object = object;
+            this.maxError = maxError;
+        }
+
+        public VSOP87Objects getObject() {
+            return object;
+        }
+
+        @Override
+        public Vector getHeliocentricEclipticPosition(double T, Epoch epoch) {
+            return select(object, epoch, T, maxError).getHeliocentricEclipticPosition(object, T, epoch);
+        }
+
+        @Override
+        public Vector getGeocentricEquatorialPosition(double T, Epoch epoch) {
+            return select(object, epoch, T, maxError).getGeocentricEquatorialPosition(object, T, epoch);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Evaluator;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Эфемериды с кубической интерполяцией Эрмита по точным положениям и скоростям VSOP87
+ * Hermite-interpolated position service for animation
+ * <p/>
+ * Время делится на окна длиной windowLength. В окне положения и скорости объекта вычисляются
+ * рядами VSOP87 с шагом, который выбирается по допустимой ошибке: ошибка кубического многочлена
+ * Эрмита не больше h^4 / 384 * max|r''''|, оценка max|r''''| берется из коэффициентов рядов
+ * ({@link VSOP87Series#getDerivativeBound(int)}). Окно начинается на сутки раньше для светового времени.
+ * <p/>
+ * Хранятся текущее и соседние окна каждого объекта. При обращении к окну соседнее окно в
+ * сторону движения времени вычисляется заранее исполнителем prefetch, без него - при первом обращении.
+ * Если prefetch занят и еще не начал вычислять нужное окно, оно вычисляется в вызывающем потоке.
+ * Объект потокобезопасен.
+ */
+public class HermiteEphemeris extends AbstractEphemeris {
+
+    /**
+     * запас в начале окна на световое время в юлианских столетиях
+     */
+    private static final double LIGHT_TIME_MARGIN = 1.0 / 36525.0;
+
+    private final Epoch epoch;
+    private final double maxError;
+    /**
+     * длина окна в юлианских столетиях
+     */
+    private final double windowLength;
+    private final ExecutorService prefetch;
+    private final VSOP87Series[] series;
+    /**
+     * [объект] -> количество интервалов в окне без запаса, 0 если объект не выбран
+     */
+    private final int[] intervals;
+    /**
+     * [объект] -> количество интервалов запаса перед началом окна
+     */
+    private final int[] margins;
+    /**
+     * [объект] -> индекс окна -> вычисляемое или вычисленное окно
+     */
+    private final List<ConcurrentMap<Long, FutureTask<Window>>> windows;
+    /**
+     * [объект] -> индекс последнего использованного окна
+     */
+    private final AtomicLongArray current;
+
+    private static class Window {
+        /**
+         * время первого узла в юлианских столетиях
+         */
+        final double start;
+        final double step;
+        /**
+         * положения и скорости в а.е. и а.е. за шаг, [узел][координата]
+         */
+        final double[] positions;
+        final double[] velocities;
+
+        Window(double start, double step, double[] positions, double[] velocities) {
+            this.start = start;
+            this.step = step;
+            this.positions = positions;
+            this.velocities = velocities;
+        }
+    }
+
+    /**
+     * @param objects      объекты, Земля добавляется всегда для геоцентрических координат
+     * @param epoch        эпоха рядов VSOP87
+     * @param maxError     допустимая ошибка интерполяции положения в а.е.
+     * @param windowLength длина окна в сутках
+     * @param prefetch     исполнитель для вычисления соседних окон, null - без предварительного вычисления
+     */
+    public HermiteEphemeris(VSOP87Objects[] objects, Epoch epoch, double maxError, double windowLength,
+                            ExecutorService prefetch) {
+        if (!(maxError > 0.0)) throw new IllegalArgumentException("maxError <= 0");
+        if (!(windowLength > 0.0)) throw new IllegalArgumentException("windowLength <= 0");
+        this.epoch = epoch;
+        this.maxError = maxError;
+        this.windowLength = windowLength / 36525.0;
+        this.prefetch = prefetch;
+        final int count = VSOP87Objects.values().length;
+        this.series = new VSOP87Series[count];
+        this.intervals = new int[count];
+        this.margins = new int[count];
+        this.windows = new ArrayList<ConcurrentMap<Long, FutureTask<Window>>>(count);
+        this.current = new AtomicLongArray(count);
+
+        final boolean[] selected = new boolean[count];
+        selected[VSOP87Objects.Earth.ordinal()] = true;
+        for (VSOP87Objects object : objects) selected[object.ordinal()] = true;
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            final int index = object.ordinal();
+            windows.add(selected[index] ? new ConcurrentHashMap<Long, FutureTask<Window>>() : null);
+            if (!selected[index]) continue;
+            series[index] = VSOP87Series.get(object, epoch);
+            current.set(index, Long.MIN_VALUE);
+            if (object == VSOP87Objects.Sun) {
+                intervals[index] = 1;
+                margins[index] = 1;
+                continue;
+            }
+            // шаг в юлианских столетиях по оценке ошибки h^4 / 384 * max|r''''|
+            final double step = 10.0 * Math.pow(384.0 * maxError / series[index].getDerivativeBound(4), 0.25);
+            intervals[index] = Math.max(1, (int) Math.ceil(this.windowLength / step));
+            margins[index] = (int) Math.ceil(LIGHT_TIME_MARGIN / (this.windowLength / intervals[index]));
+        }
+    }
+
+    @Override
+    public Epoch getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return начало интервала применимости рядов VSOP87
+     */
+    @Override
+    public double getStartT() {
+        return -10.0 * VSOP87Series.T_SPAN;
+    }
+
+    /**
+     * @return конец интервала применимости рядов VSOP87
+     */
+    @Override
+    public double getEndT() {
+        return 10.0 * VSOP87Series.T_SPAN;
+    }
+
+    /**
+     * @return допустимая ошибка интерполяции положения в а.е.
+     */
+    @Override
+    public double getTolerance() {
+        return maxError;
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object) {
+        return series[object.ordinal()] != null;
+    }
+
+    /**
+     * @param object объект
+     * @return шаг узлов интерполяции в сутках
+     */
+    public double getStep(VSOP87Objects object) {
+        checkObject(object);
+        return windowLength * 36525.0 / intervals[object.ordinal()];
+    }
+
+    @Override
+    public void getEclipticPosition(VSOP87Objects object, double T, double[] out) {
+        checkObject(object);
+        final int index = object.ordinal();
+        long window = current.get(index);
+        // последнее окно, если T в нем или в запасе перед ним, иначе окно по времени
+        if (window == Long.MIN_VALUE || T < window * windowLength - LIGHT_TIME_MARGIN || T > (window + 1) * windowLength) {
+            window = (long) Math.floor(T / windowLength);
+        }
+        final Window samples = getWindow(index, window);
+        final long previous = current.getAndSet(index, window);
+        if (previous != window) {
+            // соседнее окно в сторону движения времени
+            schedule(index, previous == Long.MIN_VALUE || window > previous ? window + 1 : window - 1);
+            final ConcurrentMap<Long, FutureTask<Window>> objectWindows = windows.get(index);
+            for (Long key : objectWindows.keySet()) {
+                if (Math.abs(key - window) > 1) objectWindows.remove(key);
+            }
+        }
+
+        final int last = intervals[index] + margins[index] - 1;
+        final double u = (T - samples.start) / samples.step;
+        int node = (int) Math.floor(u);
+        if (node < 0) node = 0;
+        if (node > last) node = last;
+        final double s = u - node;
+        // базисные многочлены Эрмита
+        final double s2 = s * s;
+        final double s3 = s2 * s;
+        final double h00 = 2.0 * s3 - 3.0 * s2 + 1.0;
+        final double h10 = s3 - 2.0 * s2 + s;
+        final double h01 = -2.0 * s3 + 3.0 * s2;
+        final double h11 = s3 - s2;
+        final double[] positions = samples.positions;
+        final double[] velocities = samples.velocities;
+        for (int coordinate = 0; coordinate < 3; coordinate++) {
+            final int i = 3 * node + coordinate;
+            out[coordinate] = h00 * positions[i] + h10 * velocities[i] + h01 * positions[i + 3] + h11 * velocities[i + 3];
+        }
+    }
+
+    private Window getWindow(int index, long window) {
+        final ConcurrentMap<Long, FutureTask<Window>> objectWindows = windows.get(index);
+        FutureTask<Window> task = objectWindows.get(window);
+        if (task == null) {
+            final FutureTask<Window> created = new FutureTask<Window>(new WindowTask(index, window));
+            task = objectWindows.putIfAbsent(window, created);
+            if (task == null) task = created;
+        }
+        // окно, которое prefetch еще не начал вычислять, вычисляется в текущем потоке:
+        // FutureTask выполняется один раз, повторный run() ничего не делает
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            objectWindows.remove(window, task);
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void schedule(int index, long window) {
+        final ConcurrentMap<Long, FutureTask<Window>> objectWindows = windows.get(index);
+        if (prefetch == null || objectWindows.containsKey(window)) return;
+        final FutureTask<Window> task = new FutureTask<Window>(new WindowTask(index, window));
+        if (objectWindows.putIfAbsent(window, task) != null) return;
+        try {
+            prefetch.execute(task);
+        } catch (RejectedExecutionException e) {
+            objectWindows.remove(window, task);
+        }
+    }
+
+    private class WindowTask implements Callable<Window> {
+        private final int index;
+        private final long window;
+
+        WindowTask(int index, long window) {
+            this.index = index;
+            this.window = window;
+        }
+
+        @Override
+        public Window call() {
+            final int count = intervals[index] + margins[index] + 1;
+            final double step = windowLength / intervals[index];
+            final double start = window * windowLength - margins[index] * step;
+            final double[] positions = new double[3 * count];
+            final double[] velocities = new double[3 * count];
+            final VSOP87Evaluator evaluator = new VSOP87Evaluator(series[index]);
+            final double[] position = new double[3];
+            final double[] velocity = new double[3];
+            for (int node = 0; node < count; node++) {
+                evaluator.evaluate((start + node * step) / 10.0, position, velocity);
+                for (int coordinate = 0; coordinate < 3; coordinate++) {
+                    positions[3 * node + coordinate] = position[coordinate];
+                    // а.е. за юлианское тысячелетие -> а.е. за шаг
+                    velocities[3 * node + coordinate] = velocity[coordinate] * step / 10.0;
+                }
+            }
+            return new Window(start, step, positions, velocities);
+        }
+    }
+
+    private void checkObject(VSOP87Objects object) {
+        if (series[object.ordinal()] == null) throw new IllegalArgumentException("Object is not in ephemeris: " + object);
+    }
+}
@@ -0,0 +1,107 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Эфемериды Чебышева, отображенные в память из файла {@link EphemerisFile}
+ * <p/>
+ * Коэффициенты читаются прямо из отображения без копирования в кучу. Используется только
+ * абсолютное чтение, поэтому объект потокобезопасен. Отображение освобождается сборщиком мусора.
+ */
+public class MappedEphemeris extends AbstractEphemeris {
+
+    private static final int SIZE = ChebyshevEphemeris.DEGREE + 1;
+
+    private final Epoch epoch;
+    private final double startT;
+    private final double endT;
+    private final double tolerance;
+    private final double fitStartT;
+    private final int[] counts;
+    private final double[] lengths;
+    /**
+     * начало коэффициентов объекта в числах double от начала файла
+     */
+    private final int[] offsets;
+    private final DoubleBuffer coefficients;
+
+    MappedEphemeris(Epoch epoch, double startT, double endT, double tolerance, double fitStartT,
+                    int[] counts, double[] lengths, int[] offsets, DoubleBuffer coefficients) {
+        this.epoch = epoch;
+        this.startT = startT;
+        this.endT = endT;
+        this.tolerance = tolerance;
+        this.fitStartT = fitStartT;
+        this.counts = counts;
+        this.lengths = lengths;
+        this.offsets = offsets;
+        this.coefficients = coefficients;
+    }
+
+    @Override
+    public Epoch getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public double getStartT() {
+        return startT;
+    }
+
+    @Override
+    public double getEndT() {
+        return endT;
+    }
+
+    /**
+     * @return допустимая ошибка положения в а.е.
+     */
+    @Override
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object) {
+        return counts[object.ordinal()] != 0;
+    }
+
+    /**
+     * @param object объект
+     * @return количество отрезков объекта
+     */
+    public int getSegmentCount(VSOP87Objects object) {
+        checkObject(object);
+        return counts[object.ordinal()];
+    }
+
+    @Override
+    public void getEclipticPosition(VSOP87Objects object, double T, double[] out) {
+        checkObject(object);
+        if (T < fitStartT || T > endT) throw new IndexOutOfBoundsException("T out of range: " + T);
+        final int index = object.ordinal();
+        final double position = (T - fitStartT) / lengths[index];
+        int segment = (int) position;
+        if (segment >= counts[index]) segment = counts[index] - 1;
+        final double x = 2.0 * (position - segment) - 1.0;
+        final double x2 = 2.0 * x;
+        final int offset = offsets[index] + segment * 3 * SIZE;
+        for (int coordinate = 0; coordinate < 3; coordinate++) {
+            final int start = offset + coordinate * SIZE;
+            double b0 = 0.0, b1 = 0.0, b2;
+            for (int k = SIZE - 1; k >= 1; k--) {
+                b2 = b1;
+                b1 = b0;
+                b0 = coefficients.get(start + k) + x2 * b1 - b2;
+            }
+            out[coordinate] = coefficients.get(start) + x * b0 - b1;
+        }
+    }
+
+    private void checkObject(VSOP87Objects object) {
+        if (counts[object.ordinal()] == 0) throw new IllegalArgumentException("Object is not in ephemeris: " + object);
+    }
+}
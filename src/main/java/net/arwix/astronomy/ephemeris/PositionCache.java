@@ -0,0 +1,198 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+import net.arwix.astronomy.coordinates.VectorType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш положений перед другим источником координат
+ * Bounded thread-safe position cache keyed by body, epoch and quantized time
+ * <p/>
+ * Время округляется до ближайшего кратного resolution, положение вычисляется и хранится для
+ * округленного момента. Хранилище разбито на {@link #STRIPES} частей с отдельной блокировкой, в каждой
+ * части вытесняется давно не использованное положение (LRU). Вычисление выполняется вне блокировки,
+ * поэтому при одновременных промахах одно положение может быть вычислено несколько раз.
+ * <p/>
+ * Хранятся массивы, каждый вызов возвращает новый вектор, изменение результата не влияет на кэш.
+ * Для подключения к вычислителям событий - {@link EphemerisProviders#register(EphemerisProvider)}.
+ */
+public class PositionCache implements EphemerisProvider {
+
+    /**
+     * количество частей хранилища, 2^4 для выбора части по старшим битам хэша ключа
+     */
+    public static final int STRIPES = 16;
+
+    /**
+     * наибольшая геоцентрическая скорость объекта (Меркурий в нижнем соединении) в а.е. за сутки с запасом
+     */
+    private static final double MAX_SPEED = 0.08;
+
+    /**
+     * наибольший индекс времени, при котором в ключе хватает бит для объекта, эпохи и вида координат
+     */
+    private static final long MAX_INDEX = 1L << 56;
+
+    private final EphemerisProvider provider;
+    /**
+     * шаг округления в юлианских столетиях
+     */
+    private final double resolution;
+    private final int maxSize;
+    private final Stripe[] stripes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private class Stripe extends LinkedHashMap<Long, double[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, double[]> eldest) {
+            if (size() <= capacity) return false;
+            evictions.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Кэш перед полными рядами VSOP87
+     *
+     * @param resolution шаг округления времени в сутках, например {@link net.arwix.astronomy.Constant#JD_SECOND}
+     * @param maxSize    наибольшее количество положений
+     */
+    public PositionCache(double resolution, int maxSize) {
+        this(VSOP87Provider.FULL, resolution, maxSize);
+    }
+
+    /**
+     * @param provider   источник координат
+     * @param resolution шаг округления времени в сутках, например {@link net.arwix.astronomy.Constant#JD_SECOND}
+     * @param maxSize    наибольшее количество положений
+     */
+    public PositionCache(EphemerisProvider provider, double resolution, int maxSize) {
+        if (provider == null) throw new NullPointerException();
+        if (!(resolution > 0.0)) throw new IllegalArgumentException("resolution <= 0");
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize < 1");
+        this.provider = provider;
+        this.resolution = resolution / 36525.0;
+        this.maxSize = maxSize;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe((maxSize + STRIPES - 1 - i) / STRIPES);
+        }
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object, Epoch epoch, double T) {
+        return provider.contains(object, epoch, quantize(T));
+    }
+
+    /**
+     * @return точность источника плюс смещение объекта за половину шага округления
+     */
+    @Override
+    public double getAccuracy(VSOP87Objects object, Epoch epoch) {
+        return provider.getAccuracy(object, epoch) + MAX_SPEED * resolution * 36525.0 / 2.0;
+    }
+
+    @Override
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T, Epoch epoch) {
+        return get(object, T, epoch, false);
+    }
+
+    @Override
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T, Epoch epoch) {
+        return get(object, T, epoch, true);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return текущее количество положений
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Удаление всех положений, счетчики не сбрасываются
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private Vector get(VSOP87Objects object, double T, Epoch epoch, boolean geocentric) {
+        final long index = Math.round(T / resolution);
+        final double quantized = index * resolution;
+        if (Math.abs(index) >= MAX_INDEX) {
+            misses.incrementAndGet();
+            return compute(object, quantized, epoch, geocentric);
+        }
+        final Long key = (index << 6) | (object.ordinal() << 2) | (epoch.ordinal() << 1) | (geocentric ? 1 : 0);
+        // старшие биты произведения на золотое сечение равномерно распределены по частям
+        final Stripe stripe = stripes[(int) ((key * 0x9E3779B97F4A7C15L) >>> 60)];
+        double[] position;
+        synchronized (stripe) {
+            position = stripe.get(key);
+        }
+        if (position != null) {
+            hits.incrementAndGet();
+            return new RectangularVector(position);
+        }
+        misses.incrementAndGet();
+        final Vector vector = compute(object, quantized, epoch, geocentric);
+        position = ((RectangularVector) vector.getVectorInType(VectorType.RECTANGULAR)).toArray();
+        synchronized (stripe) {
+            stripe.put(key, position);
+        }
+        return vector;
+    }
+
+    private Vector compute(VSOP87Objects object, double T, Epoch epoch, boolean geocentric) {
+        return geocentric ? provider.getGeocentricEquatorialPosition(object, T, epoch)
+                : provider.getHeliocentricEclipticPosition(object, T, epoch);
+    }
+
+    private double quantize(double T) {
+        return Math.round(T / resolution) * resolution;
+    }
+}
@@ -0,0 +1,52 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Precision;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+import net.arwix.astronomy.coordinates.Vector;
+
+/**
+ * Источник координат по рядам VSOP87 заданной точности
+ * <p/>
+ * Ряды определены для любого момента, точность VSOP87 гарантирована в интервале
+ * 2000 г. до н.э. - 6000 г. н.э.
+ */
+public class VSOP87Provider implements EphemerisProvider {
+
+    /**
+     * полные ряды, используются если ни один зарегистрированный источник не подходит
+     */
+    public static final VSOP87Provider FULL = new VSOP87Provider(VSOP87Precision.FULL);
+
+    private final VSOP87Precision precision;
+
+    public VSOP87Provider(VSOP87Precision precision) {
+        if (precision == null) throw new NullPointerException();
+        this.precision = precision;
+    }
+
+    public VSOP87Precision getPrecision() {
+        return precision;
+    }
+
+    @Override
+    public boolean contains(VSOP87Objects object, Epoch epoch, double T) {
+        return true;
+    }
+
+    @Override
+    public double getAccuracy(VSOP87Objects object, Epoch epoch) {
+        return VSOP87Series.get(object, epoch, precision).getTruncationError();
+    }
+
+    @Override
+    public Vector getHeliocentricEclipticPosition(VSOP87Objects object, double T, Epoch epoch) {
+        return object.getHeliocentricEclipticPosition(T, epoch, precision);
+    }
+
+    @Override
+    public Vector getGeocentricEquatorialPosition(VSOP87Objects object, double T, Epoch epoch) {
+        return object.getGeocentricEquatorialPosition(T, epoch, precision);
+    }
+}
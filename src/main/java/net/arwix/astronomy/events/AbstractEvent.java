@@ -7,7 +7,6 @@ import net.arwix.astronomy.calendar.CalendarMath;
 import net.arwix.astronomy.coordinates.Location;
 import net.arwix.astronomy.coordinates.SphericalVector;
 import net.arwix.astronomy.coordinates.VectorType;
-import net.arwix.astronomy.math.QuadraticInterpolation;
 
 import java.util.Calendar;
 
@@ -31,6 +30,17 @@ abstract class AbstractEvent {
     protected Calendar riseDate, downDate;
     protected boolean above;
 
+    /**
+     * количество узлов интерполяции на сутки, 0 - координаты вычисляются для каждого значения высоты
+     */
+    private int interpolationNodes;
+    /**
+     * MJD начала суток и геоцентрические экваториальные X, Y, Z в узлах MJD0 + i / (nodes - 1)
+     */
+    private double nodesMJD0;
+    private double[] nodes;
+    private final double[] interpolated = new double[3];
+
     public AbstractEvent(GeocentricEquatorialCoordinates coordinates) {
         this.isValid = false;
         this.innerDate = Calendar.getInstance();
@@ -58,6 +68,41 @@ abstract class AbstractEvent {
         return this.location;
     }
 
+    /**
+     * Интерполяция координат объекта в течение суток
+     * <p/>
+     * Координаты вычисляются в nodes равноотстоящих узлах от 0h до 24h, для каждого значения высоты
+     * X, Y, Z интерполируются многочленом Лагранжа степени nodes - 1, заново вычисляется только часовой угол.
+     * 3 узла - ошибка направления для Солнца и планет меньше 0.1" (Меркурий у нижнего соединения до 1"),
+     * 4 узла - меньше 0.01" для всех объектов; вместо до 25 вычислений координат за сутки.
+     *
+     * @param nodes количество узлов не меньше 2, 0 - без интерполяции
+     */
+    public void setInterpolationNodes(int nodes) {
+        if (nodes == 1 || nodes < 0) throw new IllegalArgumentException("nodes = " + nodes);
+        this.isValid = false;
+        this.interpolationNodes = nodes;
+    }
+
+    public int getInterpolationNodes() {
+        return this.interpolationNodes;
+    }
+
+    /**
+     * Вычисление узлов интерполяции на сутки, начинающиеся с MJD0
+     */
+    protected void prepareInterpolation(double MJD0) {
+        if (interpolationNodes == 0) {
+            nodes = null;
+            return;
+        }
+        nodes = new double[3 * interpolationNodes];
+        nodesMJD0 = MJD0;
+        for (int i = 0; i < interpolationNodes; i++) {
+            AltitudeMath.getPosition(coordinates, MJD0 + (double) i / (interpolationNodes - 1), this.deltaT, nodes, 3 * i);
+        }
+    }
+
     protected void resetTimeInnerDate() {
         this.innerDate.set(Calendar.HOUR_OF_DAY, 0);
         this.innerDate.set(Calendar.MINUTE, 0);
@@ -79,6 +124,8 @@ abstract class AbstractEvent {
         final double T, tau;
         final SphericalVector p;
 
+        if (nodes != null) return getInterpolatedSinAltitude(MJD, longitude, cosLatitude, sinLatitude);
+
         T = (MJD - Constant.MJD_J2000 - this.deltaT) / 36525.0;
         p = (SphericalVector) coordinates.getGeocentricEquatorialPosition(T, Epoch.APPARENT).getVectorInType(VectorType.SPHERICAL);
 
@@ -88,6 +135,14 @@ abstract class AbstractEvent {
         return sinLatitude * sin(p.theta) + cosLatitude * cos(p.theta) * cos(tau);
     }
 
+    /**
+     * Синус высоты по интерполированным координатам
+     */
+    private double getInterpolatedSinAltitude(double MJD, double longitude, double cosLatitude, double sinLatitude) {
+        AltitudeMath.interpolate(nodes, interpolationNodes, (MJD - nodesMJD0) * (interpolationNodes - 1), interpolated);
+        return AltitudeMath.getSinAltitude(interpolated, MJD, longitude, cosLatitude, sinLatitude);
+    }
+
     /**
      * Расчет моментов восхода/захода Объекта и наступления сумерек
      * <p/>
@@ -106,71 +161,35 @@ abstract class AbstractEvent {
         riseDate = null;
         downDate = null;
         final double MJD0 = CalendarMath.getMJD(innerDate);
+        prepareInterpolation(MJD0);
         final double cosLatitude = cos(this.location.latitude);
         final double sinLatitude = sin(this.location.latitude);
 
+        final double[] hours = new double[2];
+        final double[] parabola = new double[RiseSetScan.PARABOLA_SIZE];
+        // восход и заход по часам в интервалах [0h-2h] ... [22h-24h], высота вычисляется только до
+        // интервала, в котором найдены оба события
         double hour = 1.0;
-        double y_minus, y_0, y_plus;
-
-        // Инициализация поиска
-        y_minus = getSinAltitude(MJD0 + (hour - 1.0) / 24.0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
-
-        // признак что выше горизонта
+        double y_minus = getSinAltitude(MJD0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
         above = (y_minus > 0.0);
-        boolean rises = false;
-        boolean sets = false;
-
-        double LT_Rise, LT_Set;
-
-        // перебор интервалов [0h-2h] to [22h-24h]
+        int flags = 0;
         do {
-            y_0 = getSinAltitude(MJD0 + hour / 24.0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
-            y_plus = getSinAltitude(MJD0 + (hour + 1.0) / 24.0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
-
-            // определние параболы по трем значением y_minus,y_0,y_plus
-            QuadraticInterpolation.Result quadResult = new QuadraticInterpolation(y_minus, y_0,
-                    y_plus).getResult();
-
-            // корень один
-            if (quadResult.roots != null && quadResult.roots.count == 1) {
-                if (y_minus < 0.0) {
-                    LT_Rise = hour + quadResult.roots.root1;
-                    riseDate = Calendar.getInstance(date.getTimeZone());
-                    riseDate.setTime(date.getTime());
-                    CalendarMath.setHours(riseDate, LT_Rise);
-                    rises = true;
-                } else {
-                    LT_Set = hour + quadResult.roots.root1;
-                    downDate = Calendar.getInstance(date.getTimeZone());
-                    downDate.setTime(date.getTime());
-                    CalendarMath.setHours(downDate, LT_Set);
-                    sets = true;
-                }
-            }
-
-            // корня два
-            if (quadResult.roots != null && quadResult.roots.count == 2) {
-                if (quadResult.extremum.y < 0.0) {
-                    LT_Rise = hour + quadResult.roots.root2;
-                    LT_Set = hour + quadResult.roots.root1;
-                } else {
-                    LT_Rise = hour + quadResult.roots.root1;
-                    LT_Set = hour + quadResult.roots.root2;
-                }
-                riseDate = Calendar.getInstance(date.getTimeZone());
-                downDate = Calendar.getInstance(date.getTimeZone());
-                riseDate.setTime(date.getTime());
-                downDate.setTime(date.getTime());
-                CalendarMath.setHours(riseDate, LT_Rise);
-                CalendarMath.setHours(downDate, LT_Set);
-                rises = true;
-                sets = true;
-            }
-
-            y_minus = y_plus; // подготовка к обработке следующего интервала
+            final double y_0 = getSinAltitude(MJD0 + hour / 24.0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
+            final double y_plus = getSinAltitude(MJD0 + (hour + 1.0) / 24.0, this.location.longitude, cosLatitude, sinLatitude) - sinRefractionAngle;
+            flags |= RiseSetScan.scanInterval(y_minus, y_0, y_plus, hour, hours, parabola);
+            y_minus = y_plus;
             hour += 2.0;
-        } while (!((hour == 25.0) || (rises && sets)));
+        } while (!((hour == RiseSetScan.SAMPLES) || flags == (RiseSetScan.RISES | RiseSetScan.SETS)));
+
+        if ((flags & RiseSetScan.RISES) != 0) riseDate = getDateOfHours(hours[0]);
+        if ((flags & RiseSetScan.SETS) != 0) downDate = getDateOfHours(hours[1]);
         isValid = true;
     }
 
+    private Calendar getDateOfHours(double hours) {
+        final Calendar calendar = Calendar.getInstance(date.getTimeZone());
+        calendar.setTime(date.getTime());
+        return CalendarMath.setHours(calendar, hours);
+    }
+
 }
\ No newline at end of file
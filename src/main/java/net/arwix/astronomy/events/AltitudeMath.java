@@ -0,0 +1,126 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.calendar.CalendarMath;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.VectorType;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+/**
+ * Положение объекта и высота над горизонтом для поиска событий без создания объектов на каждое значение
+ * Object position and altitude helpers for event searches
+ * <p/>
+ * Общие для {@link AbstractEvent}, {@link RiseSetBatch}, {@link RiseSetCalendar} и {@link RiseSet}.
+ */
+final class AltitudeMath {
+
+    private AltitudeMath() {
+    }
+
+    /**
+     * Геоцентрические экваториальные X, Y, Z на момент MJD (UT)
+     *
+     * @param coordinates координаты объекта
+     * @param MJD         модифицированная юлианская дата (UT)
+     * @param deltaT      ET - UT в сутках
+     * @param out         результат
+     * @param offset      индекс X в out
+     */
+    static void getPosition(GeocentricEquatorialCoordinates coordinates, double MJD, double deltaT,
+                            double[] out, int offset) {
+        final double T = (MJD - Constant.MJD_J2000 - deltaT) / 36525.0;
+        final double[] p = ((RectangularVector) coordinates.getGeocentricEquatorialPosition(T, Epoch.APPARENT)
+                .getVectorInType(VectorType.RECTANGULAR)).toArray();
+        System.arraycopy(p, 0, out, offset, 3);
+    }
+
+    /**
+     * Многочлен Лагранжа по узлам 0, 1, ..., n - 1 в точке x
+     *
+     * @param nodes X, Y, Z в узлах подряд
+     * @param n     количество узлов
+     * @param x     точка в долях шага узлов
+     * @param out   X, Y, Z в точке x
+     */
+    static void interpolate(double[] nodes, int n, double x, double[] out) {
+        double X = 0.0, Y = 0.0, Z = 0.0;
+        for (int i = 0; i < n; i++) {
+            // базисный многочлен Лагранжа узла i
+            double weight = 1.0;
+            for (int j = 0; j < n; j++) {
+                if (j != i) weight *= (x - j) / (i - j);
+            }
+            X += weight * nodes[3 * i];
+            Y += weight * nodes[3 * i + 1];
+            Z += weight * nodes[3 * i + 2];
+        }
+        out[0] = X;
+        out[1] = Y;
+        out[2] = Z;
+    }
+
+    /**
+     * Синус высоты по геоцентрическим экваториальным X, Y, Z:
+     * sin h = sin(phi) sin(delta) + cos(phi) cos(delta) cos(GMST + lambda - alpha),
+     * cos(delta) cos(alpha) = X / r, cos(delta) sin(alpha) = Y / r, sin(delta) = Z / r
+     *
+     * @param position    X, Y, Z
+     * @param MJD         модифицированная юлианская дата (UT)
+     * @param longitude   долгота в радианах
+     * @param cosLatitude косинус широты
+     * @param sinLatitude синус широты
+     * @return синус высоты без рефракции
+     */
+    static double getSinAltitude(double[] position, double MJD, double longitude, double cosLatitude,
+                                 double sinLatitude) {
+        final double X = position[0], Y = position[1], Z = position[2];
+        final double r = Math.sqrt(X * X + Y * Y + Z * Z);
+        final double theta = CalendarMath.getGMST(MJD) + longitude;
+        return sinLatitude * Z / r + cosLatitude * (X * cos(theta) + Y * sin(theta)) / r;
+    }
+
+    /**
+     * Синусы высоты в часы 0h ... 24h одних суток, координаты по узлам интерполяции внутри суток
+     *
+     * @param coordinates координаты объекта
+     * @param n           количество узлов интерполяции, 0 - координаты для каждого часа
+     * @param MJD0        модифицированная юлианская дата полуночи суток (UT)
+     * @param deltaT      ET - UT в сутках
+     * @param longitude   долгота в радианах
+     * @param cosLatitude косинус широты
+     * @param sinLatitude синус широты
+     * @param carry       true если первый узел и значение 0h равны последним значениям предыдущих суток в nodes
+     *                    и sinAltitude (сутки 24 часа подряд)
+     * @param nodes       X, Y, Z в узлах, 3 * n значений
+     * @param position    рабочий массив на 3 значения
+     * @param sinAltitude синусы высоты без рефракции, {@link RiseSetScan#SAMPLES} значений
+     */
+    static void getSinAltitudes(GeocentricEquatorialCoordinates coordinates, int n, double MJD0, double deltaT,
+                                double longitude, double cosLatitude, double sinLatitude, boolean carry,
+                                double[] nodes, double[] position, double[] sinAltitude) {
+        for (int i = 0; i < n; i++) {
+            if (i == 0 && carry) {
+                System.arraycopy(nodes, 3 * (n - 1), nodes, 0, 3);
+            } else {
+                getPosition(coordinates, MJD0 + (double) i / (n - 1), deltaT, nodes, 3 * i);
+            }
+        }
+        for (int hour = 0; hour < RiseSetScan.SAMPLES; hour++) {
+            if (hour == 0 && carry) {
+                sinAltitude[0] = sinAltitude[RiseSetScan.SAMPLES - 1];
+                continue;
+            }
+            final double MJD = MJD0 + hour / 24.0;
+            if (n == 0) {
+                getPosition(coordinates, MJD, deltaT, position, 0);
+            } else {
+                interpolate(nodes, n, hour / 24.0 * (n - 1), position);
+            }
+            sinAltitude[hour] = getSinAltitude(position, MJD, longitude, cosLatitude, sinLatitude);
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class CulminationEvent extends AbstractEvent {
         isValid = false;
         resetTimeInnerDate();
         final double MJD0 = CalendarMath.getMJD(innerDate);
+        prepareInterpolation(MJD0);
         final double cosLatitude = cos(location.latitude);
         final double sinLatitude = sin(location.latitude);
 
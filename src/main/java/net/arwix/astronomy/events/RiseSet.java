@@ -0,0 +1,212 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.calendar.CalendarMath;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Восход и заход (начало и конец сумерек) на одни сутки, неизменяемый результат
+ * Stateless rise/set calculator with immutable results
+ * <p/>
+ * В отличие от {@link RiseSetEvent} и {@link TwilightEvent} не хранит дату и место между вызовами:
+ * {@link #compute} вычисляет одни сутки сразу (25 значений высоты и поиск, как в {@link RiseSetCalendar}),
+ * все рабочие данные создаются на стеке вызова, результат после создания не меняется.
+ * Сутки задаются моментом в мс и часовым поясом: число не меняется, пояс копируется в начале вызова,
+ * место читается один раз. Такие вызовы можно выполнять одновременно из любого количества потоков
+ * с общими поясом и местом, если координаты объекта потокобезопасны
+ * ({@link net.arwix.astronomy.VSOP87.VSOP87Objects},
+ * {@link net.arwix.astronomy.ephemeris.EphemerisProviders#getCoordinates}).
+ * Варианты с {@link Calendar} читают календарь вызывающего кода, сам {@link Calendar} не потокобезопасен:
+ * общий календарь нельзя использовать из нескольких потоков.
+ */
+public final class RiseSet {
+
+    /**
+     * часы восхода (начала сумерек) от полуночи суток в часовом поясе даты, NaN если события нет
+     */
+    public final double rise;
+    /**
+     * часы захода (конца сумерек) от полуночи суток в часовом поясе даты, NaN если события нет
+     */
+    public final double set;
+    /**
+     * true если объект выше уровня события в 0h
+     */
+    public final boolean above;
+
+    private final TimeZone timeZone;
+    private final long riseTime, setTime;
+
+    private RiseSet(Calendar date, double rise, double set, boolean above) {
+        this.rise = rise;
+        this.set = set;
+        this.above = above;
+        this.timeZone = (TimeZone) date.getTimeZone().clone();
+        this.riseTime = getTimeInMillis(date, rise);
+        this.setTime = getTimeInMillis(date, set);
+    }
+
+    /**
+     * Восход и заход объекта, координаты вычисляются для каждого значения высоты, как в {@link RiseSetEvent}
+     *
+     * @param coordinates координаты объекта
+     * @param type        тип объекта
+     * @param time        момент в мс, сутки отсчитываются от полуночи в часовом поясе timeZone
+     * @param timeZone    часовой пояс
+     * @param location    место наблюдения
+     * @return результат
+     */
+    public static RiseSet compute(GeocentricEquatorialCoordinates coordinates, ObjectType type,
+                                  long time, TimeZone timeZone, Location location) {
+        return compute(coordinates, type, time, timeZone, location, 0);
+    }
+
+    /**
+     * Восход и заход объекта
+     *
+     * @param coordinates        координаты объекта
+     * @param type               тип объекта
+     * @param time               момент в мс, сутки отсчитываются от полуночи в часовом поясе timeZone
+     * @param timeZone           часовой пояс
+     * @param location           место наблюдения
+     * @param interpolationNodes узлы интерполяции координат, см. {@link RiseSetEvent#setInterpolationNodes(int)}
+     * @return результат
+     */
+    public static RiseSet compute(GeocentricEquatorialCoordinates coordinates, ObjectType type,
+                                  long time, TimeZone timeZone, Location location, int interpolationNodes) {
+        return compute(coordinates, type.getSinRefractionAngle(), time, timeZone, location, interpolationNodes);
+    }
+
+    /**
+     * Восход и заход объекта, координаты вычисляются для каждого значения высоты, как в {@link RiseSetEvent}
+     *
+     * @param coordinates координаты объекта
+     * @param type        тип объекта
+     * @param date        дата
+     * @param location    место наблюдения
+     * @return результат
+     */
+    public static RiseSet compute(GeocentricEquatorialCoordinates coordinates, ObjectType type,
+                                  Calendar date, Location location) {
+        return compute(coordinates, type, date, location, 0);
+    }
+
+    /**
+     * Восход и заход объекта
+     *
+     * @param coordinates        координаты объекта
+     * @param type               тип объекта
+     * @param date               дата
+     * @param location           место наблюдения
+     * @param interpolationNodes узлы интерполяции координат, см. {@link RiseSetEvent#setInterpolationNodes(int)}
+     * @return результат
+     */
+    public static RiseSet compute(GeocentricEquatorialCoordinates coordinates, ObjectType type,
+                                  Calendar date, Location location, int interpolationNodes) {
+        return compute(coordinates, type, date.getTimeInMillis(), date.getTimeZone(), location, interpolationNodes);
+    }
+
+    /**
+     * Начало и конец сумерек
+     *
+     * @param sunCoordinates     координаты Солнца
+     * @param type               тип сумерек
+     * @param time               момент в мс, сутки отсчитываются от полуночи в часовом поясе timeZone
+     * @param timeZone           часовой пояс
+     * @param location           место наблюдения
+     * @param interpolationNodes узлы интерполяции координат, см. {@link RiseSetEvent#setInterpolationNodes(int)}
+     * @return результат
+     */
+    public static RiseSet computeTwilight(GeocentricEquatorialCoordinates sunCoordinates,
+                                          TwilightEvent.TwilightType type, long time, TimeZone timeZone,
+                                          Location location, int interpolationNodes) {
+        return compute(sunCoordinates, type.getSinRefractionAngle(), time, timeZone, location, interpolationNodes);
+    }
+
+    /**
+     * Начало и конец сумерек
+     *
+     * @param sunCoordinates координаты Солнца
+     * @param type           тип сумерек
+     * @param date           дата
+     * @param location       место наблюдения
+     * @return результат
+     */
+    public static RiseSet computeTwilight(GeocentricEquatorialCoordinates sunCoordinates,
+                                          TwilightEvent.TwilightType type, Calendar date, Location location) {
+        return computeTwilight(sunCoordinates, type, date, location, 0);
+    }
+
+    /**
+     * Начало и конец сумерек
+     *
+     * @param sunCoordinates     координаты Солнца
+     * @param type               тип сумерек
+     * @param date               дата
+     * @param location           место наблюдения
+     * @param interpolationNodes узлы интерполяции координат, см. {@link RiseSetEvent#setInterpolationNodes(int)}
+     * @return результат
+     */
+    public static RiseSet computeTwilight(GeocentricEquatorialCoordinates sunCoordinates,
+                                          TwilightEvent.TwilightType type, Calendar date, Location location,
+                                          int interpolationNodes) {
+        return computeTwilight(sunCoordinates, type, date.getTimeInMillis(), date.getTimeZone(), location,
+                interpolationNodes);
+    }
+
+    private static RiseSet compute(GeocentricEquatorialCoordinates coordinates, double sinRefractionAngle,
+                                   long time, TimeZone timeZone, Location location, int n) {
+        if (coordinates == null) throw new NullPointerException();
+        if (n == 1 || n < 0) throw new IllegalArgumentException("nodes = " + n);
+        // копии: пояс и место могут меняться после вызова
+        final Calendar day = Calendar.getInstance((TimeZone) timeZone.clone());
+        day.setTimeInMillis(time);
+        final double longitude = location.longitude;
+        final double latitude = location.latitude;
+
+        RiseSetCalendar.resetTime(day);
+        final double deltaT = CalendarMath.getDeltaTofDay(day);
+        final double MJD0 = CalendarMath.getMJD(day);
+        final double[] sinAltitude = new double[RiseSetScan.SAMPLES];
+        AltitudeMath.getSinAltitudes(coordinates, n, MJD0, deltaT, longitude, Math.cos(latitude), Math.sin(latitude),
+                false, new double[3 * n], new double[3], sinAltitude);
+        final double[] hours = new double[2];
+        final int flags = RiseSetScan.scan(sinAltitude, sinRefractionAngle, hours,
+                new double[RiseSetScan.PARABOLA_SIZE]);
+        return new RiseSet(day, hours[0], hours[1], (flags & RiseSetScan.ABOVE) != 0);
+    }
+
+    /**
+     * @return время восхода (начала сумерек), новый объект при каждом вызове, или null
+     */
+    public Calendar getRiseTime() {
+        return getCalendar(rise, riseTime);
+    }
+
+    /**
+     * @return время захода (конца сумерек), новый объект при каждом вызове, или null
+     */
+    public Calendar getSetTime() {
+        return getCalendar(set, setTime);
+    }
+
+    public boolean getAbove() {
+        return above;
+    }
+
+    private Calendar getCalendar(double hours, long time) {
+        if (Double.isNaN(hours)) return null;
+        final Calendar calendar = Calendar.getInstance((TimeZone) timeZone.clone());
+        calendar.setTimeInMillis(time);
+        return calendar;
+    }
+
+    private static long getTimeInMillis(Calendar date, double hours) {
+        if (Double.isNaN(hours)) return 0L;
+        final Calendar calendar = (Calendar) date.clone();
+        return CalendarMath.setHours(calendar, hours).getTimeInMillis();
+    }
+}
@@ -0,0 +1,230 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.calendar.CalendarMath;
+
+import java.util.Calendar;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+/**
+ * Восход и заход одного объекта в одну дату для многих мест наблюдения
+ * Batch rise/set for many locations on the same date
+ * <p/>
+ * Поиск как в {@link RiseSetEvent}: высота в часы 0h ... 24h, квадратичная интерполяция на интервалах
+ * по 2 часа. Моменты значений одинаковы для всех мест, поэтому координаты объекта и звездное время
+ * вычисляются один раз в {@link #setDate(Calendar)} (25 вычислений координат). Для места остается
+ * sin h = sin(phi) Z + cos(phi) (cos(lambda) A + sin(lambda) B), где
+ * A = X cos(GMST) + Y sin(GMST), B = Y cos(GMST) - X sin(GMST) по единичному вектору X, Y, Z, -
+ * несколько умножений на значение без тригонометрии и без создания объектов.
+ * <p/>
+ * Результат - часы от полуночи даты в ее часовом поясе, как аргумент
+ * {@link CalendarMath#setHours(Calendar, double)}, NaN если события нет.
+ * Дата и координаты на сутки хранятся одним неизменяемым объектом, {@link #setDate(Calendar)} заменяет его
+ * целиком: вычисления можно выполнять из нескольких потоков, каждое вычисление использует одни сутки,
+ * даже если дата меняется во время вычисления.
+ */
+public class RiseSetBatch {
+
+    /**
+     * наименьшее количество мест в задаче ForkJoin
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    private final GeocentricEquatorialCoordinates coordinates;
+    private final double sinRefractionAngle;
+    private volatile Day day;
+
+    /**
+     * Дата и координаты объекта на сутки, не меняются после создания
+     */
+    static final class Day {
+        /**
+         * копия даты {@link #setDate(Calendar)}
+         */
+        final Calendar date;
+        /**
+         * [час] -> A, B, Z по единичному вектору направления на объект
+         */
+        final double[] track;
+
+        Day(Calendar date, double[] track) {
+            this.date = date;
+            this.track = track;
+        }
+    }
+
+    /**
+     * @param type        тип объекта (рефракция и видимый радиус)
+     * @param coordinates координаты объекта
+     */
+    public RiseSetBatch(ObjectType type, GeocentricEquatorialCoordinates coordinates) {
+        this(type.getSinRefractionAngle(), coordinates);
+    }
+
+    /**
+     * Начало и конец сумерек
+     *
+     * @param type        тип сумерек
+     * @param coordinates координаты Солнца
+     */
+    public RiseSetBatch(TwilightEvent.TwilightType type, GeocentricEquatorialCoordinates coordinates) {
+        this(type.getSinRefractionAngle(), coordinates);
+    }
+
+    private RiseSetBatch(double sinRefractionAngle, GeocentricEquatorialCoordinates coordinates) {
+        if (coordinates == null) throw new NullPointerException();
+        this.sinRefractionAngle = sinRefractionAngle;
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Дата и вычисление координат объекта на сутки
+     *
+     * @param date дата, сутки отсчитываются от полуночи в ее часовом поясе
+     */
+    public void setDate(Calendar date) {
+        final Calendar day = Calendar.getInstance(date.getTimeZone());
+        day.setTime(date.getTime());
+        final double deltaT = CalendarMath.getDeltaTofDay(day);
+        day.set(Calendar.HOUR_OF_DAY, 0);
+        day.set(Calendar.MINUTE, 0);
+        day.set(Calendar.SECOND, 0);
+        day.set(Calendar.MILLISECOND, 0);
+        final double MJD0 = CalendarMath.getMJD(day);
+
+        final double[] track = new double[3 * RiseSetScan.SAMPLES];
+        final double[] p = new double[3];
+        for (int hour = 0; hour < RiseSetScan.SAMPLES; hour++) {
+            final double MJD = MJD0 + hour / 24.0;
+            AltitudeMath.getPosition(coordinates, MJD, deltaT, p, 0);
+            final double r = Math.sqrt(p[0] * p[0] + p[1] * p[1] + p[2] * p[2]);
+            final double x = p[0] / r, y = p[1] / r, z = p[2] / r;
+            final double gmst = CalendarMath.getGMST(MJD);
+            final double cosGmst = cos(gmst), sinGmst = sin(gmst);
+            track[3 * hour] = x * cosGmst + y * sinGmst;
+            track[3 * hour + 1] = y * cosGmst - x * sinGmst;
+            track[3 * hour + 2] = z;
+        }
+        this.day = new Day((Calendar) date.clone(), track);
+    }
+
+    /**
+     * @return копия даты или null, если дата не задана
+     */
+    public Calendar getDate() {
+        final Day day = this.day;
+        return day == null ? null : (Calendar) day.date.clone();
+    }
+
+    /**
+     * @return текущие сутки
+     * @throws IllegalStateException если дата не задана
+     */
+    Day getDay() {
+        final Day day = this.day;
+        if (day == null) throw new IllegalStateException("date is not set");
+        return day;
+    }
+
+    /**
+     * Восход и заход для мест from ... to - 1 в текущем потоке
+     *
+     * @param longitude долготы в радианах (восточные положительные)
+     * @param latitude  широты в радианах
+     * @param rise      часы восхода, NaN если восхода нет
+     * @param set       часы захода, NaN если захода нет
+     * @param above     true если объект над горизонтом в 0h
+     * @param from      первое место
+     * @param to        место после последнего
+     */
+    public void calculate(double[] longitude, double[] latitude, double[] rise, double[] set, boolean[] above,
+                          int from, int to) {
+        calculate(getDay().track, longitude, latitude, rise, set, above, from, to);
+    }
+
+    private void calculate(double[] track, double[] longitude, double[] latitude, double[] rise, double[] set,
+                           boolean[] above, int from, int to) {
+        final double[] samples = new double[RiseSetScan.SAMPLES];
+        final double[] hours = new double[2];
+        final double[] parabola = new double[RiseSetScan.PARABOLA_SIZE];
+        for (int i = from; i < to; i++) {
+            final double cosLatitude = cos(latitude[i]);
+            final int flags = scan(track, cosLatitude * cos(longitude[i]), cosLatitude * sin(longitude[i]), sin(latitude[i]),
+                    samples, hours, parabola);
+            rise[i] = hours[0];
+            set[i] = hours[1];
+            above[i] = (flags & RiseSetScan.ABOVE) != 0;
+        }
+    }
+
+    /**
+     * Поиск восхода и захода для одного места
+     *
+     * @param track       {@link Day#track}
+     * @param cc          cos(phi) cos(lambda)
+     * @param cs          cos(phi) sin(lambda)
+     * @param sinLatitude sin(phi)
+     * @param samples     рабочий массив на {@link RiseSetScan#SAMPLES} значений
+     * @param hours       часы восхода и захода, NaN если события нет
+     * @param parabola    рабочий массив на {@link RiseSetScan#PARABOLA_SIZE} значений
+     * @return {@link RiseSetScan#ABOVE}, {@link RiseSetScan#RISES}, {@link RiseSetScan#SETS}
+     */
+    int scan(double[] track, double cc, double cs, double sinLatitude, double[] samples, double[] hours,
+             double[] parabola) {
+        for (int hour = 0, o = 0; hour < RiseSetScan.SAMPLES; hour++, o += 3) {
+            samples[hour] = cc * track[o] + cs * track[o + 1] + sinLatitude * track[o + 2];
+        }
+        return RiseSetScan.scan(samples, sinRefractionAngle, hours, parabola);
+    }
+
+    /**
+     * Восход и заход для всех мест, места делятся на части задачами ForkJoin
+     *
+     * @param pool      пул потоков
+     * @param longitude долготы в радианах (восточные положительные)
+     * @param latitude  широты в радианах
+     * @param rise      часы восхода, NaN если восхода нет
+     * @param set       часы захода, NaN если захода нет
+     * @param above     true если объект над горизонтом в 0h
+     */
+    public void calculate(ForkJoinPool pool, double[] longitude, double[] latitude, double[] rise, double[] set,
+                          boolean[] above) {
+        pool.invoke(new CalculateTask(getDay().track, longitude, latitude, rise, set, above, 0, longitude.length));
+    }
+
+    private class CalculateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] track;
+        private final double[] longitude, latitude, rise, set;
+        private final boolean[] above;
+        private final int from, to;
+
+        CalculateTask(double[] track, double[] longitude, double[] latitude, double[] rise, double[] set,
+                      boolean[] above, int from, int to) {
+            this.track = track;
+            this.longitude = longitude;
+            this.latitude = latitude;
+            this.rise = rise;
+            this.set = set;
+            this.above = above;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                calculate(track, longitude, latitude, rise, set, above, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new CalculateTask(track, longitude, latitude, rise, set, above, from, middle),
+                    new CalculateTask(track, longitude, latitude, rise, set, above, middle, to));
+        }
+    }
+}
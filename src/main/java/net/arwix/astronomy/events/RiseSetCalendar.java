@@ -0,0 +1,248 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.calendar.CalendarMath;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.util.Calendar;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+/**
+ * Восход, заход и сумерки для одного места на много суток подряд
+ * Date-range rise/set/twilight calendar
+ * <p/>
+ * Для каждых суток вычисляются синусы высоты в часы 0h ... 24h, поиск событий как в {@link RiseSetEvent}
+ * и {@link TwilightEvent} выполняется по одним и тем же значениям для всех типов событий.
+ * Значение 24h суток N совпадает со значением 0h суток N + 1 и переносится, как и последний узел
+ * интерполяции координат (кроме суток перехода на летнее/зимнее время).
+ * Координаты объекта интерполируются по узлам внутри суток, как в {@link RiseSetEvent#setInterpolationNodes(int)}:
+ * при 3 узлах 2 вычисления координат на сутки вместо до 25 на каждый тип события.
+ * <p/>
+ * Все поля задаются в конструкторе и не меняются, один объект можно использовать из нескольких потоков.
+ */
+public class RiseSetCalendar {
+
+    /**
+     * количество узлов интерполяции на сутки по умолчанию
+     */
+    public static final int DEFAULT_INTERPOLATION_NODES = 3;
+
+    /**
+     * Получатель результатов по мере вычисления
+     */
+    public interface Listener {
+        /**
+         * @param day   номер суток от начальной даты
+         * @param event 0 - восход и заход объекта, 1 ... - сумерки в порядке конструктора
+         * @param rise  часы восхода (начала сумерек) от полуночи суток, NaN если события нет
+         * @param set   часы захода (конца сумерек) от полуночи суток, NaN если события нет
+         * @param above true если объект выше уровня события в 0h
+         */
+        void onEvent(int day, int event, double rise, double set, boolean above);
+    }
+
+    /**
+     * Таблица результатов [событие][сутки], заполняется только {@link #calculate(Location, Calendar, int)}
+     */
+    public static final class Table {
+        private final Calendar start;
+        private final double[][] rise;
+        private final double[][] set;
+        private final boolean[][] above;
+
+        Table(Calendar start, int events, int days) {
+            this.start = start;
+            this.rise = new double[events][days];
+            this.set = new double[events][days];
+            this.above = new boolean[events][days];
+        }
+
+        void put(int day, int event, double rise, double set, boolean above) {
+            this.rise[event][day] = rise;
+            this.set[event][day] = set;
+            this.above[event][day] = above;
+        }
+
+        /**
+         * @return количество суток
+         */
+        public int getDayCount() {
+            return rise[0].length;
+        }
+
+        /**
+         * @return часы восхода (начала сумерек) от полуночи суток, NaN если события нет
+         */
+        public double getRise(int event, int day) {
+            return rise[event][day];
+        }
+
+        /**
+         * @return часы захода (конца сумерек) от полуночи суток, NaN если события нет
+         */
+        public double getSet(int event, int day) {
+            return set[event][day];
+        }
+
+        /**
+         * @return true если объект выше уровня события в 0h
+         */
+        public boolean getAbove(int event, int day) {
+            return above[event][day];
+        }
+
+        /**
+         * @return время восхода (начала сумерек) или null
+         */
+        public Calendar getRiseTime(int event, int day) {
+            return getTime(day, rise[event][day]);
+        }
+
+        /**
+         * @return время захода (конца сумерек) или null
+         */
+        public Calendar getSetTime(int event, int day) {
+            return getTime(day, set[event][day]);
+        }
+
+        private Calendar getTime(int day, double hours) {
+            if (Double.isNaN(hours)) return null;
+            final Calendar calendar = Calendar.getInstance(start.getTimeZone());
+            calendar.setTime(start.getTime());
+            calendar.add(Calendar.DAY_OF_MONTH, day);
+            return CalendarMath.setHours(calendar, hours);
+        }
+    }
+
+    private final GeocentricEquatorialCoordinates coordinates;
+    private final double[] sinRefractionAngles;
+    private final int interpolationNodes;
+
+    /**
+     * @param coordinates координаты объекта
+     * @param type        тип объекта, событие 0
+     * @param twilights   сумерки (для Солнца), события 1 ...
+     */
+    public RiseSetCalendar(GeocentricEquatorialCoordinates coordinates, ObjectType type,
+                           TwilightEvent.TwilightType... twilights) {
+        this(coordinates, DEFAULT_INTERPOLATION_NODES, type, twilights);
+    }
+
+    /**
+     * @param coordinates        координаты объекта
+     * @param interpolationNodes количество узлов интерполяции на сутки не меньше 2, 0 - координаты для каждого часа,
+     *                           см. {@link RiseSetEvent#setInterpolationNodes(int)}
+     * @param type               тип объекта, событие 0
+     * @param twilights          сумерки (для Солнца), события 1 ...
+     */
+    public RiseSetCalendar(GeocentricEquatorialCoordinates coordinates, int interpolationNodes, ObjectType type,
+                           TwilightEvent.TwilightType... twilights) {
+        this(coordinates, interpolationNodes, getSinRefractionAngles(type, twilights));
+    }
+
+    /**
+     * @param coordinates         координаты объекта
+     * @param interpolationNodes  количество узлов интерполяции на сутки
+     * @param sinRefractionAngles синусы высот событий 0, 1, ...
+     */
+    RiseSetCalendar(GeocentricEquatorialCoordinates coordinates, int interpolationNodes,
+                    double... sinRefractionAngles) {
+        if (coordinates == null) throw new NullPointerException();
+        if (interpolationNodes == 1 || interpolationNodes < 0) {
+            throw new IllegalArgumentException("nodes = " + interpolationNodes);
+        }
+        this.coordinates = coordinates;
+        this.interpolationNodes = interpolationNodes;
+        this.sinRefractionAngles = sinRefractionAngles.clone();
+    }
+
+    private static double[] getSinRefractionAngles(ObjectType type, TwilightEvent.TwilightType[] twilights) {
+        final double[] angles = new double[1 + twilights.length];
+        angles[0] = type.getSinRefractionAngle();
+        for (int i = 0; i < twilights.length; i++) {
+            angles[1 + i] = twilights[i].getSinRefractionAngle();
+        }
+        return angles;
+    }
+
+    /**
+     * @return количество типов событий
+     */
+    public int getEventCount() {
+        return sinRefractionAngles.length;
+    }
+
+    public int getInterpolationNodes() {
+        return interpolationNodes;
+    }
+
+    /**
+     * Вычисление в таблицу
+     *
+     * @param location место наблюдения
+     * @param start    начальная дата, сутки отсчитываются от полуночи в ее часовом поясе
+     * @param days     количество суток
+     * @return таблица [событие][сутки]
+     */
+    public Table calculate(Location location, Calendar start, int days) {
+        final Calendar midnight = Calendar.getInstance(start.getTimeZone());
+        midnight.setTime(start.getTime());
+        resetTime(midnight);
+        final Table table = new Table(midnight, sinRefractionAngles.length, days);
+        calculate(location, start, days, new Listener() {
+            @Override
+            public void onEvent(int day, int event, double rise, double set, boolean above) {
+                table.put(day, event, rise, set, above);
+            }
+        });
+        return table;
+    }
+
+    /**
+     * Вычисление с передачей результатов по суткам
+     *
+     * @param location место наблюдения
+     * @param start    начальная дата, сутки отсчитываются от полуночи в ее часовом поясе
+     * @param days     количество суток
+     * @param listener получатель, для каждых суток вызывается для событий 0, 1, ...
+     */
+    public void calculate(Location location, Calendar start, int days, Listener listener) {
+        final int n = interpolationNodes;
+        final Calendar day = Calendar.getInstance(start.getTimeZone());
+        day.setTime(start.getTime());
+        resetTime(day);
+        final double cosLatitude = cos(location.latitude);
+        final double sinLatitude = sin(location.latitude);
+        final double[] sinAltitude = new double[RiseSetScan.SAMPLES];
+        final double[] nodes = new double[3 * n];
+        final double[] position = new double[3];
+        final double[] hours = new double[2];
+        final double[] parabola = new double[RiseSetScan.PARABOLA_SIZE];
+        double previousMJD0 = Double.NaN;
+
+        for (int d = 0; d < days; d++) {
+            final double deltaT = CalendarMath.getDeltaTofDay(day);
+            final double MJD0 = CalendarMath.getMJD(day);
+            // сутки 24 часа: 24h предыдущих суток - 0h текущих
+            final boolean carry = Math.abs(MJD0 - previousMJD0 - 1.0) < 1e-9;
+
+            AltitudeMath.getSinAltitudes(coordinates, n, MJD0, deltaT, location.longitude, cosLatitude, sinLatitude,
+                    carry, nodes, position, sinAltitude);
+            for (int event = 0; event < sinRefractionAngles.length; event++) {
+                final int flags = RiseSetScan.scan(sinAltitude, sinRefractionAngles[event], hours, parabola);
+                listener.onEvent(d, event, hours[0], hours[1], (flags & RiseSetScan.ABOVE) != 0);
+            }
+            previousMJD0 = MJD0;
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
+    static void resetTime(Calendar calendar) {
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+    }
+}
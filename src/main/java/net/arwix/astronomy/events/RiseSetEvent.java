@@ -7,6 +7,8 @@ import java.util.Calendar;
 
 /**
  * The type Rise set event.
+ * <p/>
+ * Хранит дату, место и результат, не потокобезопасен; для общих вызовов из нескольких потоков см. {@link RiseSet}
  */
 public class RiseSetEvent extends AbstractEvent {
 
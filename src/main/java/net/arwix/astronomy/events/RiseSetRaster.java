@@ -0,0 +1,243 @@
+package net.arwix.astronomy.events;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+/**
+ * Восход и заход на сетке широт и долгот для карт
+ * Global rise/set raster over a latitude/longitude grid
+ * <p/>
+ * Ячейки width x height равномерно делят прямоугольник west ... east, north ... south, значения
+ * вычисляются в центрах ячеек. Строки идут с севера на юг, ячейка (x, y) имеет индекс y * width + x.
+ * Координаты объекта на сутки берутся из {@link RiseSetBatch} один раз для всей сетки, sin и cos долгот
+ * вычисляются один раз для всех строк, широты - один раз на строку. Строки делятся между задачами ForkJoin.
+ * <p/>
+ * Результат - часы от полуночи даты {@link RiseSetBatch#getDate()} на момент начала вычисления
+ * в ее часовом поясе, NaN если события нет, и состояние ячейки {@link #RISE_SET} ... {@link #POLAR_NIGHT}.
+ */
+public class RiseSetRaster {
+
+    /**
+     * восход и заход
+     */
+    public static final byte RISE_SET = 0;
+    /**
+     * только восход
+     */
+    public static final byte RISE_ONLY = 1;
+    /**
+     * только заход
+     */
+    public static final byte SET_ONLY = 2;
+    /**
+     * весь день над горизонтом (для Солнца полярный день)
+     */
+    public static final byte POLAR_DAY = 3;
+    /**
+     * весь день под горизонтом (для Солнца полярная ночь)
+     */
+    public static final byte POLAR_NIGHT = 4;
+
+    private final RiseSetBatch batch;
+    private final int width, height;
+    private final double west, north, east, south;
+    /**
+     * cos и sin долгот центров ячеек
+     */
+    private final double[] cosLongitude, sinLongitude;
+
+    /**
+     * @param batch  объект, тип события и дата
+     * @param width  количество ячеек по долготе
+     * @param height количество ячеек по широте
+     * @param west   западная граница в радианах
+     * @param north  северная граница в радианах
+     * @param east   восточная граница в радианах
+     * @param south  южная граница в радианах
+     */
+    public RiseSetRaster(RiseSetBatch batch, int width, int height,
+                         double west, double north, double east, double south) {
+        if (batch == null) throw new NullPointerException();
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("size " + width + " x " + height);
+        this.batch = batch;
+        this.width = width;
+        this.height = height;
+        this.west = west;
+        this.north = north;
+        this.east = east;
+        this.south = south;
+        this.cosLongitude = new double[width];
+        this.sinLongitude = new double[width];
+        for (int x = 0; x < width; x++) {
+            final double longitude = getLongitude(x);
+            cosLongitude[x] = cos(longitude);
+            sinLongitude[x] = sin(longitude);
+        }
+    }
+
+    /**
+     * Вся Земля: долготы -180 ... 180, широты 90 ... -90
+     */
+    public static RiseSetRaster getGlobal(RiseSetBatch batch, int width, int height) {
+        return new RiseSetRaster(batch, width, height, -Math.PI, Math.PI / 2.0, Math.PI, -Math.PI / 2.0);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return долгота центра столбца x в радианах
+     */
+    public double getLongitude(int x) {
+        return west + (x + 0.5) * (east - west) / width;
+    }
+
+    /**
+     * @return широта центра строки y в радианах
+     */
+    public double getLatitude(int y) {
+        return north - (y + 0.5) * (north - south) / height;
+    }
+
+    /**
+     * Вычисление сетки в массивы float
+     *
+     * @param pool  пул потоков
+     * @param rise  часы восхода, width * height
+     * @param set   часы захода, width * height
+     * @param state состояние ячеек или null
+     */
+    public void calculate(ForkJoinPool pool, float[] rise, float[] set, byte[] state) {
+        calculate(pool, new FloatRaster(rise, set), state);
+    }
+
+    /**
+     * Вычисление сетки в буферы, например прямые буферы для передачи в тайлы;
+     * позиция буферов не меняется, ячейка (x, y) записывается по индексу y * width + x
+     *
+     * @param pool  пул потоков
+     * @param rise  часы восхода, width * height
+     * @param set   часы захода, width * height
+     * @param state состояние ячеек или null
+     */
+    public void calculate(ForkJoinPool pool, DoubleBuffer rise, DoubleBuffer set, byte[] state) {
+        calculate(pool, new BufferRaster(rise, set), state);
+    }
+
+    private void calculate(ForkJoinPool pool, Raster raster, byte[] state) {
+        final double[] track = batch.getDay().track;
+        if (raster.size() < width * height || (state != null && state.length < width * height)) {
+            throw new IllegalArgumentException("raster size < " + width * height);
+        }
+        pool.invoke(new RowsTask(track, raster, state, 0, height));
+    }
+
+    private void calculateRows(double[] track, Raster raster, byte[] state, int from, int to) {
+        final double[] samples = new double[RiseSetScan.SAMPLES];
+        final double[] hours = new double[2];
+        final double[] parabola = new double[RiseSetScan.PARABOLA_SIZE];
+        for (int y = from; y < to; y++) {
+            final double latitude = getLatitude(y);
+            final double cosLatitude = cos(latitude);
+            final double sinLatitude = sin(latitude);
+            for (int x = 0; x < width; x++) {
+                final int flags = batch.scan(track, cosLatitude * cosLongitude[x], cosLatitude * sinLongitude[x],
+                        sinLatitude, samples, hours, parabola);
+                final int index = y * width + x;
+                raster.put(index, hours[0], hours[1]);
+                if (state != null) state[index] = getState(flags);
+            }
+        }
+    }
+
+    private static byte getState(int flags) {
+        final boolean rises = (flags & RiseSetScan.RISES) != 0;
+        final boolean sets = (flags & RiseSetScan.SETS) != 0;
+        if (rises && sets) return RISE_SET;
+        if (rises) return RISE_ONLY;
+        if (sets) return SET_ONLY;
+        return (flags & RiseSetScan.ABOVE) != 0 ? POLAR_DAY : POLAR_NIGHT;
+    }
+
+    private class RowsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] track;
+        private final Raster raster;
+        private final byte[] state;
+        private final int from, to;
+
+        RowsTask(double[] track, Raster raster, byte[] state, int from, int to) {
+            this.track = track;
+            this.raster = raster;
+            this.state = state;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= Math.max(1, RiseSetBatch.CHUNK_SIZE / width)) {
+                calculateRows(track, raster, state, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new RowsTask(track, raster, state, from, middle), new RowsTask(track, raster, state, middle, to));
+        }
+    }
+
+    private static abstract class Raster {
+        abstract int size();
+
+        abstract void put(int index, double rise, double set);
+    }
+
+    private static class FloatRaster extends Raster {
+        private final float[] rise, set;
+
+        FloatRaster(float[] rise, float[] set) {
+            this.rise = rise;
+            this.set = set;
+        }
+
+        @Override
+        int size() {
+            return Math.min(rise.length, set.length);
+        }
+
+        @Override
+        void put(int index, double rise, double set) {
+            this.rise[index] = (float) rise;
+            this.set[index] = (float) set;
+        }
+    }
+
+    private static class BufferRaster extends Raster {
+        private final DoubleBuffer rise, set;
+
+        BufferRaster(DoubleBuffer rise, DoubleBuffer set) {
+            this.rise = rise;
+            this.set = set;
+        }
+
+        @Override
+        int size() {
+            return Math.min(rise.limit(), set.limit());
+        }
+
+        @Override
+        void put(int index, double rise, double set) {
+            this.rise.put(index, rise);
+            this.set.put(index, set);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.math.QuadraticInterpolation;
+
+/**
+ * Поиск восхода и захода по синусам высоты в часы 0h ... 24h
+ * Rise/set search over hourly altitude samples
+ * <p/>
+ * Квадратичная интерполяция {@link QuadraticInterpolation#find(double, double, double, double[])}
+ * на интервалах [0h-2h] ... [22h-24h], поиск заканчивается на интервале, в котором найдены оба события.
+ * Общий для {@link AbstractEvent}, {@link RiseSetBatch}, {@link RiseSetRaster} и {@link RiseSetCalendar}.
+ */
+final class RiseSetScan {
+
+    /**
+     * количество значений высоты на сутки, часы 0h ... 24h
+     */
+    static final int SAMPLES = 25;
+
+    /**
+     * признаки результата: над горизонтом в 0h, есть восход, есть заход
+     */
+    static final int ABOVE = 1, RISES = 2, SETS = 4;
+
+    /**
+     * размер рабочего массива параболы, см. {@link QuadraticInterpolation#find(double, double, double, double[])}
+     */
+    static final int PARABOLA_SIZE = 4;
+
+    private RiseSetScan() {
+    }
+
+    /**
+     * @param sinAltitude        синусы высоты без рефракции, {@link #SAMPLES} значений
+     * @param sinRefractionAngle {@link ObjectType#getSinRefractionAngle()}
+     * @param hours              часы восхода и захода, NaN если события нет
+     * @param parabola           рабочий массив на {@link #PARABOLA_SIZE} значений
+     * @return {@link #ABOVE}, {@link #RISES}, {@link #SETS}
+     */
+    static int scan(double[] sinAltitude, double sinRefractionAngle, double[] hours, double[] parabola) {
+        hours[0] = Double.NaN;
+        hours[1] = Double.NaN;
+        int hour = 1;
+        double y_minus = sinAltitude[0] - sinRefractionAngle;
+        final boolean above = y_minus > 0.0;
+        int flags = 0;
+        do {
+            final double y_plus = sinAltitude[hour + 1] - sinRefractionAngle;
+            flags |= scanInterval(y_minus, sinAltitude[hour] - sinRefractionAngle, y_plus, hour, hours, parabola);
+            y_minus = y_plus;
+            hour += 2;
+        } while (!(hour == SAMPLES || flags == (RISES | SETS)));
+        return (above ? ABOVE : 0) | flags;
+    }
+
+    /**
+     * Один интервал поиска [hour - 1, hour + 1]
+     *
+     * @param y_minus  высота над уровнем события в hour - 1
+     * @param y_0      высота над уровнем события в hour
+     * @param y_plus   высота над уровнем события в hour + 1
+     * @param hour     середина интервала
+     * @param hours    часы восхода и захода, меняются только найденные
+     * @param parabola рабочий массив на {@link #PARABOLA_SIZE} значений
+     * @return {@link #RISES}, {@link #SETS}
+     */
+    static int scanInterval(double y_minus, double y_0, double y_plus, double hour, double[] hours, double[] parabola) {
+        final int count = QuadraticInterpolation.find(y_minus, y_0, y_plus, parabola);
+        final double root1 = parabola[2];
+        final double root2 = parabola[3];
+        if (count == 1) {
+            if (y_minus < 0.0) {
+                hours[0] = hour + root1;
+                return RISES;
+            }
+            hours[1] = hour + root1;
+            return SETS;
+        }
+        if (count == 2) {
+            if (parabola[1] < 0.0) {
+                hours[0] = hour + root2;
+                hours[1] = hour + root1;
+            } else {
+                hours[0] = hour + root1;
+                hours[1] = hour + root2;
+            }
+            return RISES | SETS;
+        }
+        return 0;
+    }
+}
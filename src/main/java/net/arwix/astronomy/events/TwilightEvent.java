@@ -3,6 +3,7 @@ package net.arwix.astronomy.events;
 
 import net.arwix.astronomy.GeocentricEquatorialCoordinates;
 import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.ephemeris.EphemerisProviders;
 
 import java.util.Calendar;
 
@@ -29,7 +30,7 @@ public class TwilightEvent extends AbstractEvent {
     private TwilightType twilightType;
 
     public TwilightEvent() {
-        super(VSOP87Objects.Sun);
+        super(EphemerisProviders.getCoordinates(VSOP87Objects.Sun));
     }
 
     public TwilightEvent(GeocentricEquatorialCoordinates SunCoordinates) {
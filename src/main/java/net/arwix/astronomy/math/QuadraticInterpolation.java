@@ -56,31 +56,46 @@ public final class QuadraticInterpolation {
         return result;
     }
 
-    private static Result impl(double y_minus, double c, double y_plus) {
+    /**
+     * Корни и экстремум без создания объектов, для поиска в циклах
+     *
+     * @param y_minus Значение функции в точке x = -1
+     * @param y_0     Значение функции в точке x = 0
+     * @param y_plus  Значение функции в точке x = +1
+     * @param out     0 - абсцисса экстремума, 1 - ордината экстремума, 2,3 - корни, как в {@link Roots}
+     * @return количество корней на [-1, 1], -1 если парабола не имеет корней (2,3 не меняются)
+     */
+    public static int find(double y_minus, double y_0, double y_plus, double[] out) {
         // Коэффициенты итерполирующей параболы y=a*x^2+b*x+c
-        final double a = 0.5 * (y_plus + y_minus) - c;
+        final double a = 0.5 * (y_plus + y_minus) - y_0;
         final double b = 0.5 * (y_plus - y_minus);
 
         // Находим экстремум
         final double xe = -b / (2.0 * a);
-        final PointD extremum = new PointD(xe, (a * xe + b) * xe + c);
+        out[0] = xe;
+        out[1] = (a * xe + b) * xe + y_0;
 
-        final double dis = b * b - 4.0 * a * c; // дискриминант уравнения y=a*x^2+b*x+c
+        final double dis = b * b - 4.0 * a * y_0; // дискриминант уравнения y=a*x^2+b*x+c
+        if (dis < 0) return -1;
 
-        Result result;
-        if (dis >= 0) // Парабола имеет корни roots
-        {
-            final double dx = 0.5 * Math.sqrt(dis) / Math.abs(a);
+        final double dx = 0.5 * Math.sqrt(dis) / Math.abs(a);
+        double root1 = xe - dx;
+        final double root2 = xe + dx;
+        int count = 0;
 
-            double root1 = extremum.x - dx;
-            double root2 = extremum.x + dx;
-            int count = 0;
+        if (Math.abs(root1) <= 1.0) count++;
+        if (Math.abs(root2) <= 1.0) count++;
+        if (root1 < -1.0) root1 = root2;
+        out[2] = root1;
+        out[3] = root2;
+        return count;
+    }
 
-            if (Math.abs(root1) <= 1.0) count++;
-            if (Math.abs(root2) <= 1.0) count++;
-            if (root1 < -1.0) root1 = root2;
-            result = new Result(extremum, new Roots(root1, root2, count));
-        } else result = new Result(extremum, null);
-        return result;
+    private static Result impl(double y_minus, double c, double y_plus) {
+        final double[] out = new double[4];
+        final int count = find(y_minus, c, y_plus, out);
+        final PointD extremum = new PointD(out[0], out[1]);
+        if (count < 0) return new Result(extremum, null);
+        return new Result(extremum, new Roots(out[2], out[3], count));
     }
-}
\ No newline at end of file
+}
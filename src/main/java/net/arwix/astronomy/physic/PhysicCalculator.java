@@ -11,6 +11,7 @@ import net.arwix.astronomy.coordinates.Matrix;
 import net.arwix.astronomy.coordinates.SphericalVector;
 import net.arwix.astronomy.coordinates.Vector;
 import net.arwix.astronomy.coordinates.VectorType;
+import net.arwix.astronomy.ephemeris.EphemerisProviders;
 import net.arwix.astronomy.physic.PhysicOrientation.Sense;
 import net.arwix.astronomy.physic.PhysicOrientation.SystemType;
 
@@ -29,8 +30,8 @@ public class PhysicCalculator {
     }
 
     public void calculate() {
-        Vector objVector = this.mObject.getGeocentricEquatorialPosition(this.mT, Epoch.APPARENT);
-        Vector earthVector = VSOP87Objects.Earth.getGeocentricEquatorialPosition(this.mT, Epoch.APPARENT);
+        Vector objVector = EphemerisProviders.getCoordinates(this.mObject).getGeocentricEquatorialPosition(this.mT, Epoch.APPARENT);
+        Vector earthVector = EphemerisProviders.getCoordinates(VSOP87Objects.Earth).getGeocentricEquatorialPosition(this.mT, Epoch.APPARENT);
         Vector drVector = Vector.substract(objVector, earthVector);
         double delta = Vector.norm(drVector);
         this.mApparentDiameter = Constant.ARCS * 2.0 * Math.asin(PhysicShape.getEquatorialRadius(this.mObject) / (delta * Constant.AU));
@@ -0,0 +1,57 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+
+import java.util.Random;
+
+public class EphemerisCursorTest extends TestCase {
+
+    private static final double T0 = 0.147;
+
+    public void testSequentialQueries() throws Exception {
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            final EphemerisCursor cursor = new EphemerisCursor(object, Epoch.APPARENT);
+            final VSOP87Evaluator evaluator = new VSOP87Evaluator(VSOP87Series.get(object, Epoch.APPARENT));
+            // вперед по часу больше RESEED_INTERVAL опорных моментов, затем назад по 10 минут
+            final int count = (int) (24 * cursor.getAnchorInterval() * (VSOP87Evaluator.RESEED_INTERVAL + 20));
+            for (int i = 0; i < Math.min(count, 30000); i++) {
+                check(cursor, evaluator, T0 + i / 24.0 / 36525.0);
+            }
+            for (int i = 0; i < 1000; i++) {
+                check(cursor, evaluator, T0 - i / 144.0 / 36525.0);
+            }
+        }
+    }
+
+    public void testJumps() throws Exception {
+        final Random random = new Random(17);
+        final EphemerisCursor cursor = new EphemerisCursor(VSOP87Objects.Mars, Epoch.J2000, VSOP87Precision.FULL, 1e-9);
+        final VSOP87Evaluator evaluator = new VSOP87Evaluator(VSOP87Series.get(VSOP87Objects.Mars, Epoch.J2000));
+        for (int i = 0; i < 1000; i++) {
+            check(cursor, evaluator, -2.0 + 4.0 * random.nextDouble());
+            // несколько миллисекунд после скачка
+            check(cursor, evaluator, -2.0 + 4.0 * random.nextDouble() + 0.005 / 86400.0 / 36525.0);
+        }
+    }
+
+    private static void check(EphemerisCursor cursor, VSOP87Evaluator evaluator, double T) {
+        final double[] position = new double[3];
+        final double[] velocity = new double[3];
+        final double[] expected = new double[3];
+        final double[] expectedVelocity = new double[3];
+        cursor.getHeliocentricEclipticState(T, position, velocity);
+        evaluator.evaluate(T / 10.0, expected, expectedVelocity);
+        double error = 0.0;
+        for (int i = 0; i < 3; i++) error += (position[i] - expected[i]) * (position[i] - expected[i]);
+        Assert.assertTrue(cursor.getObject() + " T=" + T, Math.sqrt(error) <= cursor.getTolerance());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(cursor.getObject() + " velocity T=" + T, expectedVelocity[i] / 365250.0, velocity[i],
+                    8.0 * cursor.getTolerance() / cursor.getAnchorInterval());
+        }
+        final double[] only = new double[3];
+        cursor.getHeliocentricEclipticPosition(T, only);
+        for (int i = 0; i < 3; i++) Assert.assertEquals(position[i], only[i], 0.0);
+    }
+}
@@ -0,0 +1,46 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+public class SinCosTest extends TestCase {
+
+    public void testAgainstMath() throws Exception {
+        final int count = 4000;
+        final double[] frequencies = new double[count];
+        for (int i = 0; i < count; i++) frequencies[i] = (i - count / 2) * 97.123456789;
+        final double maxFrequency = count / 2 * 97.123456789;
+        final double[] cos = new double[count];
+        final double[] sin = new double[count];
+        for (double t = -4.0; t <= 4.0; t += 0.0731) {
+            SinCos.evaluate(frequencies, maxFrequency, t, cos, sin);
+            for (int i = 0; i < count; i++) {
+                final double angle = frequencies[i] * t;
+                Assert.assertEquals("cos " + angle, Math.cos(angle), cos[i], 3e-16);
+                Assert.assertEquals("sin " + angle, Math.sin(angle), sin[i], 3e-16);
+            }
+        }
+    }
+
+    public void testQuadrants() throws Exception {
+        final double[] angles = {0.0, Math.PI / 4, Math.PI / 2, 3 * Math.PI / 4, Math.PI, -Math.PI / 2, -Math.PI, 2 * Math.PI, -1e-300};
+        final double[] cos = new double[angles.length];
+        final double[] sin = new double[angles.length];
+        SinCos.evaluate(angles, 2 * Math.PI, 1.0, cos, sin);
+        for (int i = 0; i < angles.length; i++) {
+            Assert.assertEquals(Math.cos(angles[i]), cos[i], 3e-16);
+            Assert.assertEquals(Math.sin(angles[i]), sin[i], 3e-16);
+        }
+        Assert.assertEquals(1.0, cos[0]);
+        Assert.assertEquals(0.0, sin[0]);
+    }
+
+    public void testLargeAngles() throws Exception {
+        final double[] frequencies = {1e7, -3e9};
+        final double[] cos = new double[2];
+        final double[] sin = new double[2];
+        SinCos.evaluate(frequencies, 3e9, 1.0, cos, sin);
+        Assert.assertEquals(Math.cos(1e7), cos[0]);
+        Assert.assertEquals(Math.sin(-3e9), sin[1]);
+    }
+}
@@ -0,0 +1,44 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class SolarSystemSnapshotTest extends TestCase {
+
+    public void testAgainstObjects() throws Exception {
+        for (Epoch epoch : Epoch.values()) {
+            for (double T : new double[]{-3.1, 0.1573, 2.2}) {
+                SolarSystemSnapshot snapshot = SolarSystemSnapshot.at(T, epoch);
+                for (VSOP87Objects object : VSOP87Objects.values()) {
+                    final String message = epoch + " " + object + " T=" + T;
+                    Vector expected = object.getHeliocentricEclipticPosition(T, epoch);
+                    Vector actual = snapshot.getHeliocentricEclipticPosition(object);
+                    Assert.assertEquals(message, 0.0, Vector.norm(Vector.substract(expected, actual)), 1e-9);
+
+                    expected = object.getGeocentricEquatorialPosition(T, epoch);
+                    actual = snapshot.getGeocentricEquatorialPosition(object);
+                    // общий путь светового времени: побитовое совпадение
+                    Assert.assertEquals(message, 0.0, Vector.norm(Vector.substract(expected, actual)), 0.0);
+                }
+            }
+        }
+    }
+
+    public void testForkJoin() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SolarSystemSnapshot expected = SolarSystemSnapshot.at(0.1573, Epoch.APPARENT, VSOP87Precision.ONE_ARCSECOND);
+            SolarSystemSnapshot actual = SolarSystemSnapshot.at(0.1573, Epoch.APPARENT, VSOP87Precision.ONE_ARCSECOND, pool);
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                Assert.assertEquals(object.name(), 0.0, Vector.norm(Vector.substract(
+                        expected.getGeocentricEquatorialPosition(object), actual.getGeocentricEquatorialPosition(object))), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.OrthographicProjection;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.SphericalVector;
+import net.arwix.astronomy.coordinates.Vector;
+import net.arwix.astronomy.coordinates.VectorType;
+
+public class VSOP87FloatEvaluatorTest extends TestCase {
+
+    public void testDirectionAccuracy() throws Exception {
+        final VSOP87Objects[] objects = VSOP87Objects.values();
+        final float[] out = new float[3 + 3 * objects.length];
+        for (Epoch epoch : Epoch.values()) {
+            final VSOP87FloatEvaluator evaluator = new VSOP87FloatEvaluator(epoch, objects);
+            for (double T = -1.0; T <= 1.0; T += 0.0913) {
+                evaluator.getGeocentricEquatorialPositions(T, out, 3);
+                for (int i = 0; i < objects.length; i++) {
+                    final Vector actual = new RectangularVector(out[3 + 3 * i], out[4 + 3 * i], out[5 + 3 * i]);
+                    if (objects[i] == VSOP87Objects.Earth) {
+                        Assert.assertEquals(0.0, actual.norm());
+                        continue;
+                    }
+                    final Vector expected = objects[i].getGeocentricEquatorialPosition(T, epoch);
+                    final double angle = Vector.norm(Vector.multiply(expected, actual)) / expected.norm() / actual.norm() * Constant.ARCS;
+                    Assert.assertTrue(objects[i] + " " + epoch + " T=" + T + " " + angle + "\"", angle <= 0.25);
+                    Assert.assertEquals(1.0, actual.norm() / expected.norm(), 1e-6);
+                }
+            }
+        }
+    }
+
+    public void testProjection() throws Exception {
+        final VSOP87Objects[] objects = {VSOP87Objects.Sun, VSOP87Objects.Mars, VSOP87Objects.Neptune};
+        final float[] positions = new float[3 * objects.length];
+        final float[] projected = new float[3 * objects.length];
+        new VSOP87FloatEvaluator(Epoch.APPARENT, objects).getGeocentricEquatorialPositions(0.1573, positions, 0);
+        final OrthographicProjection projection = new OrthographicProjection(1.2, -0.4);
+        projection.getProjection(positions, 0, 500.0f, projected, 0, objects.length);
+        for (int i = 0; i < objects.length; i++) {
+            final SphericalVector point = (SphericalVector) new RectangularVector(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2])
+                    .getVectorInType(VectorType.SPHERICAL);
+            point.r = 500.0;
+            final OrthographicProjection.ResultPoint expected = projection.getProjection(point);
+            Assert.assertEquals(expected.x, projected[3 * i], 1e-4);
+            Assert.assertEquals(expected.y, projected[3 * i + 1], 1e-4);
+            Assert.assertEquals(expected.cosDistance, projected[3 * i + 2], 1e-6);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Время холодной загрузки рядов всех объектов одной версии, запускать в новой JVM
+ * <p/>
+ * binary - сжатые ресурсы {@link VSOP87Series}, text - разбор исходных текстовых таблиц VSOP87
+ * (C_*.txt из тестовых ресурсов)
+ * <p/>
+ * Запуск: java -cp target/classes:target/test-classes net.arwix.astronomy.VSOP87.VSOP87LoadBenchmark binary
+ */
+public class VSOP87LoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final String mode = args.length > 0 ? args[0] : "binary";
+        final long start = System.nanoTime();
+        double check = 0.0;
+        long firstBody = 0;
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            if (object == VSOP87Objects.Sun) continue;
+            if (mode.equals("binary")) {
+                check += VSOP87Series.get(object, Epoch.APPARENT).evaluate(VSOP87Series.X, 0.0);
+            } else {
+                final InputStream stream = VSOP87LoadBenchmark.class.getResourceAsStream("C_" + object.name() + ".txt");
+                try {
+                    for (String[] series : VSOP87ResourceGenerator.readText(stream)) {
+                        for (String value : series) check += Double.parseDouble(value);
+                    }
+                } finally {
+                    stream.close();
+                }
+            }
+            if (firstBody == 0) firstBody = System.nanoTime() - start;
+        }
+        System.out.println(String.format(Locale.ENGLISH, "%-9s first body %6.1f ms  all bodies %6.1f ms  (%s)",
+                mode, firstBody / 1e6, (System.nanoTime() - start) / 1e6, check));
+    }
+}
@@ -0,0 +1,55 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.Locale;
+
+/**
+ * Геоцентрические положения всех планет на сетке моментов: отдельные вызовы
+ * {@link VSOP87Objects#getGeocentricEquatorialPosition(double, Epoch)} и один вызов
+ * {@link VSOP87Objects#getGeocentricEquatorialPositions(VSOP87Objects[], double[], Epoch, double[][])}
+ * <p/>
+ * Запуск: java -cp target/classes:target/test-classes net.arwix.astronomy.VSOP87.VSOP87ObjectsBenchmark
+ */
+public class VSOP87ObjectsBenchmark {
+
+    private static final VSOP87Objects[] OBJECTS = {VSOP87Objects.Sun, VSOP87Objects.Mercury, VSOP87Objects.Venus,
+            VSOP87Objects.Mars, VSOP87Objects.Jupiter, VSOP87Objects.Saturn, VSOP87Objects.Uranus, VSOP87Objects.Neptune};
+
+    public static void main(String[] args) throws Exception {
+        final double[] T = new double[1000];
+        for (int n = 0; n < T.length; n++) T[n] = 0.147 + n / 24.0 / 36525.0;
+        final double[][] out = new double[OBJECTS.length][3 * T.length];
+        for (Epoch epoch : Epoch.values()) {
+            for (int i = 0; i < 3; i++) {
+                runSingle(T, epoch);
+                runTiled(T, epoch, out);
+            }
+            final double single = runSingle(T, epoch);
+            final double tiled = runTiled(T, epoch, out);
+            System.out.println(String.format(Locale.ENGLISH, "%-8s %d bodies x %d instants: single calls %7.1f ms  tiled %7.1f ms",
+                    epoch.name(), OBJECTS.length, T.length, single, tiled));
+        }
+    }
+
+    private static double runSingle(double[] T, Epoch epoch) {
+        double sink = 0.0;
+        final long start = System.nanoTime();
+        for (double time : T) {
+            for (VSOP87Objects object : OBJECTS) {
+                final Vector vector = object.getGeocentricEquatorialPosition(time, epoch);
+                sink += vector.norm();
+            }
+        }
+        final long time = System.nanoTime() - start;
+        if (sink == 42.0) System.out.print("");
+        return time / 1e6;
+    }
+
+    private static double runTiled(double[] T, Epoch epoch, double[][] out) {
+        final long start = System.nanoTime();
+        VSOP87Objects.getGeocentricEquatorialPositions(OBJECTS, T, epoch, out);
+        return (System.nanoTime() - start) / 1e6;
+    }
+}
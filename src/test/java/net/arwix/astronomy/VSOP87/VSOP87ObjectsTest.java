@@ -2,9 +2,11 @@ package net.arwix.astronomy.VSOP87;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
+import net.arwix.astronomy.AstroMath;
 import net.arwix.astronomy.Constant;
 import net.arwix.astronomy.Epoch;
 import net.arwix.astronomy.calendar.CalendarMath;
+import net.arwix.astronomy.coordinates.RectangularVector;
 import net.arwix.astronomy.coordinates.SphericalVector;
 import net.arwix.astronomy.coordinates.Vector;
 import net.arwix.astronomy.coordinates.VectorType;
@@ -54,32 +56,32 @@ public class VSOP87ObjectsTest extends TestCase {
         vector = VSOP87Objects.Sun.getGeocentricEquatorialPosition(t, Epoch.J2000);
         Assert.assertEquals("Sun Geo Equatorial Position R.A. J2000", printLong(vector), "11:37:21.573");
         Assert.assertEquals("Sun Geo Equatorial Position DEC. J2000", printLat(vector), "02 26 53.70");
-        Assert.assertEquals("Sun Geo Equatorial Position r. J2000", getR(vector), 1.0052391393969098, Math.ulp(10.0));
+        Assert.assertEquals("Sun Geo Equatorial Position r. J2000", getR(vector), 1.0052391393969098, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
         vector = VSOP87Objects.Sun.getGeocentricEquatorialPosition(t, Epoch.APPARENT);
         Assert.assertEquals("Sun Equatorial Position R.A. APPARENT", printLong(vector), "11:38:5.994");
         Assert.assertEquals("Sun Equatorial Position DEC. APPARENT", printLat(vector), "02 22 5.11");
-        Assert.assertEquals("Sun Equatorial Position r. APPARENT", getR(vector), 1.00524067556578, Math.ulp(10.0));
+        Assert.assertEquals("Sun Equatorial Position r. APPARENT", getR(vector), 1.00524067556578, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
         vector = VSOP87Objects.Mercury.getGeocentricEquatorialPosition(t, Epoch.J2000);
         Assert.assertEquals("Mercury Geo Equatorial Position R.A. J2000", printLong(vector), "13:09:24.257");
         Assert.assertEquals("Mercury Geo Equatorial Position DEC. J2000", printLat(vector), "-9 39 1.47");
-        Assert.assertEquals("Mercury Geo Equatorial Position r. J2000", getR(vector), 1.0503725058158193, Math.ulp(10.0));
+        Assert.assertEquals("Mercury Geo Equatorial Position r. J2000", getR(vector), 1.0503725058158193, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
         vector = VSOP87Objects.Mercury.getGeocentricEquatorialPosition(t, Epoch.APPARENT);
         Assert.assertEquals("Mercury Equatorial Position R.A. APPARENT", printLong(vector), "13:10:9.809");
         Assert.assertEquals("Mercury Equatorial Position DEC. APPARENT", printLat(vector), "-9 43 35.87");
-        Assert.assertEquals("Mercury Equatorial Position r. APPARENT", getR(vector), 1.0503287437866513, Math.ulp(10.0));
+        Assert.assertEquals("Mercury Equatorial Position r. APPARENT", getR(vector), 1.0503287437866513, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
         vector = VSOP87Objects.Saturn.getGeocentricEquatorialPosition(t, Epoch.J2000);
         Assert.assertEquals("Saturn Geo Equatorial Position R.A. J2000", printLong(vector), "15:08:38.116");
         Assert.assertEquals("Saturn Geo Equatorial Position DEC. J2000", printLat(vector), "-15 31 2.11");
-        Assert.assertEquals("Saturn Geo Equatorial Position r. J2000", getR(vector), 10.47351156783531, Math.ulp(10.0));
+        Assert.assertEquals("Saturn Geo Equatorial Position r. J2000", getR(vector), 10.47351156783531, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
         vector = VSOP87Objects.Saturn.getGeocentricEquatorialPosition(t, Epoch.APPARENT);
         Assert.assertEquals("Saturn Equatorial Position R.A. APPARENT", printLong(vector), "15:09:27.099");
         Assert.assertEquals("Saturn Equatorial Position DEC. APPARENT", printLat(vector), "-15 34 14.04");
-        Assert.assertEquals("Saturn Equatorial Position r. APPARENT", getR(vector), 10.472671071306953, Math.ulp(10.0));
+        Assert.assertEquals("Saturn Equatorial Position r. APPARENT", getR(vector), 10.472671071306953, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
     }
 
@@ -89,7 +91,7 @@ public class VSOP87ObjectsTest extends TestCase {
 
         Assert.assertEquals("Mercury Equatorial Position R.A. J2000", printLong(vector), "13:09:24.257");
         Assert.assertEquals("Mercury Equatorial Position DEC. J2000", printLat(vector), "-9 39 1.47");
-        Assert.assertEquals("Mercury Equatorial Position r. J2000", getR(vector), 1.0503725058158193, Math.ulp(10.0));
+        Assert.assertEquals("Mercury Equatorial Position r. J2000", getR(vector), 1.0503725058158193, VSOP87Objects.LIGHT_TIME_TOLERANCE);
 
 
         vector = VSOP87Objects.Mercury.getGeocentricEquatorialPosition(t, Epoch.APPARENT);
@@ -97,6 +99,62 @@ public class VSOP87ObjectsTest extends TestCase {
         System.out.println(printLat(vector));
     }
 
+    public void testLightTimeCorrection() throws Exception {
+        for (Epoch epoch : Epoch.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                // два прохода рядов на момент T и T - световое время
+                VSOP87Series earthSeries = VSOP87Series.get(VSOP87Objects.Earth, epoch);
+                VSOP87Series series = VSOP87Series.get(object, epoch);
+                Vector earth = earthSeries.getRectangularVector(t / 10.0);
+                final double dT = Vector.substract(series.getRectangularVector(t / 10.0), earth).norm() / Constant.C_Light / 36525.0;
+                final double T = t - dT;
+                Vector expected;
+                if (epoch == Epoch.APPARENT) {
+                    expected = AstroMath.getNutation(T).Multiply(AstroMath.getEclipticalToEquatorialCoordinates(T)).MultiplyMV(
+                            Vector.substract(series.getRectangularVector(T / 10.0), earthSeries.getRectangularVector(T / 10.0)));
+                } else {
+                    expected = AstroMath.getEclipticalToEquatorialCoordinates(Constant.T_J2000).MultiplyMV(
+                            Vector.substract(series.getRectangularVector(T / 10.0), earth));
+                }
+                Vector single = object.getGeocentricEquatorialPosition(t, epoch);
+                Assert.assertEquals(object.name(), 0.0, Vector.norm(Vector.substract(expected, single)), VSOP87Objects.LIGHT_TIME_TOLERANCE);
+
+                Vector none = object.getGeocentricEquatorialPosition(t, epoch, VSOP87Precision.FULL, LightTimeCorrection.NONE);
+                Vector converged = object.getGeocentricEquatorialPosition(t, epoch, VSOP87Precision.FULL, LightTimeCorrection.CONVERGED);
+                if (object == VSOP87Objects.Earth) continue;
+                // смещение за световое время ~1e-4 а.е. (Солнце неподвижно, в J2000 Земля берется на момент T),
+                // поправка итераций ~1e-8 а.е.
+                if (object != VSOP87Objects.Sun || epoch == Epoch.APPARENT) {
+                    Assert.assertTrue(object.name(), Vector.norm(Vector.substract(none, single)) > 1e-5);
+                }
+                Assert.assertEquals(object.name(), 0.0, Vector.norm(Vector.substract(converged, single)), 1e-7);
+            }
+        }
+    }
+
+    public void testMultiBodyMultiTime() throws Exception {
+        final VSOP87Objects[] objects = VSOP87Objects.values();
+        // не кратно размеру блока, моменты не по порядку
+        final double[] T = new double[VSOP87Objects.TILE_SIZE + 37];
+        for (int n = 0; n < T.length; n++) T[n] = t + ((n * 37) % T.length - 50) * 0.3 / 36525.0;
+        final double[][] out = new double[objects.length][3 * T.length];
+        for (Epoch epoch : Epoch.values()) {
+            for (LightTimeCorrection correction : LightTimeCorrection.values()) {
+                VSOP87Objects.getGeocentricEquatorialPositions(objects, T, epoch, VSOP87Precision.FULL, correction, out);
+                for (int k = 0; k < objects.length; k++) {
+                    for (int n = 0; n < T.length; n++) {
+                        final double[] expected = ((RectangularVector) objects[k].getGeocentricEquatorialPosition(
+                                T[n], epoch, VSOP87Precision.FULL, correction)).toArray();
+                        for (int i = 0; i < 3; i++) {
+                            Assert.assertEquals(objects[k] + " " + epoch + " " + correction + " " + n,
+                                    expected[i], out[k][3 * n + i], 0.0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private String printLongH(Vector p) {
         SphericalVector vector = (SphericalVector) p.getVectorInType(VectorType.SPHERICAL);
         return String.format(Locale.ENGLISH, "%1$02.5f", Math.toDegrees(vector.phi));
@@ -0,0 +1,144 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Преобразование текстовых рядов VSOP87 (A_*.txt, C_*.txt) в сжатые ресурсы, которые читает
+ * {@link VSOP87Series}. Текстовые таблицы - исходные данные VSOP87 в src/test/resources,
+ * проверка результата - {@link VSOP87SeriesTest#testResourcesMatchText()} и VSOP87Reference.txt
+ * <p/>
+ * Каждое число текстовой таблицы записывается как целое unscaled и количество десятичных знаков scale,
+ * значение unscaled / 10^scale совпадает с Double.parseDouble побитово (оба округления корректны),
+ * если |unscaled| <= 2^53, остальные числа (около 1.4%) записываются двоичным double.
+ * Целые записываются разностью с предыдущим целым того же столбца ряда, столбцы A, B, C подряд,
+ * затем поток сжимается Deflate.
+ * <p/>
+ * Запуск из корня проекта: java -cp target/classes:target/test-classes
+ * net.arwix.astronomy.VSOP87.VSOP87ResourceGenerator [&lt;каталог текстовых таблиц&gt; &lt;каталог ресурсов&gt;]
+ */
+public class VSOP87ResourceGenerator {
+
+    private static final String TEXT_DIRECTORY = "src/test/resources/net/arwix/astronomy/VSOP87";
+    private static final String RESOURCE_DIRECTORY = "src/main/resources/net/arwix/astronomy/VSOP87";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 1) {
+            System.out.println("usage: VSOP87ResourceGenerator [<text directory> <resource directory>]");
+            return;
+        }
+        final String textDirectory = args.length > 0 ? args[0] : TEXT_DIRECTORY;
+        final String resourceDirectory = args.length > 0 ? args[1] : RESOURCE_DIRECTORY;
+        long text = 0;
+        long binary = 0;
+        for (Epoch epoch : Epoch.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                if (object == VSOP87Objects.Sun) continue;
+                final String name = (epoch == Epoch.J2000 ? "A_" : "C_") + object.name();
+                final File input = new File(textDirectory, name + ".txt");
+                final File output = new File(resourceDirectory, VSOP87Series.getResourceName(object, epoch));
+                final String[][] terms;
+                final InputStream stream = new FileInputStream(input);
+                try {
+                    terms = readText(stream);
+                } finally {
+                    stream.close();
+                }
+                final OutputStream out = new FileOutputStream(output);
+                try {
+                    write(terms, out);
+                } finally {
+                    out.close();
+                }
+                text += input.length();
+                binary += output.length();
+                System.out.println(String.format("%-10s %8d -> %7d bytes", name, input.length(), output.length()));
+            }
+        }
+        System.out.println(String.format("total      %8d -> %7d bytes", text, binary));
+    }
+
+    /**
+     * @param stream текстовая таблица
+     * @return [координата * ORDERS + степень] -> {A0, B0, C0, A1, ...} в исходной записи
+     */
+    static String[][] readText(InputStream stream) throws IOException {
+        final String[][] terms = new String[3 * VSOP87Series.ORDERS][];
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "US-ASCII"));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            // заголовок ряда: координата, степень, количество членов
+            String[] header = line.split(" ");
+            final int coordinate = "XYZ".indexOf(header[0].charAt(0));
+            final int order = Integer.parseInt(header[1]);
+            final String[] series = new String[3 * Integer.parseInt(header[2])];
+            for (int i = 0; i < series.length; i += 3) {
+                String[] term = reader.readLine().split(" ");
+                System.arraycopy(term, 0, series, i, 3);
+            }
+            terms[coordinate * VSOP87Series.ORDERS + order] = series;
+        }
+        for (String[] series : terms) {
+            if (series == null) throw new IOException("VSOP87 text table is incomplete");
+        }
+        return terms;
+    }
+
+    static void write(String[][] terms, OutputStream stream) throws IOException {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(stream, deflater)));
+        out.writeInt(VSOP87Series.RESOURCE_MAGIC);
+        out.writeByte(VSOP87Series.RESOURCE_VERSION);
+        for (String[] series : terms) {
+            final int count = series.length / 3;
+            writeVarLong(out, count);
+            for (int column = 0; column < 3; column++) {
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    final String value = series[3 * i + column];
+                    final BigDecimal decimal = new BigDecimal(value);
+                    final int scale = Math.max(decimal.scale(), 0);
+                    final BigInteger integer = decimal.setScale(scale).unscaledValue();
+                    final long unscaled = integer.longValue();
+                    if (integer.bitLength() >= 64 || scale >= VSOP87Series.POWERS_OF_TEN.length || Math.abs(unscaled) > 1L << 53
+                            || Double.doubleToLongBits(unscaled / VSOP87Series.POWERS_OF_TEN[scale])
+                            != Double.doubleToLongBits(Double.parseDouble(value))) {
+                        // 17 значащих цифр - двоичная запись
+                        out.writeByte(VSOP87Series.RAW_DOUBLE);
+                        out.writeDouble(Double.parseDouble(value));
+                        continue;
+                    }
+                    out.writeByte(scale);
+                    final long delta = unscaled - previous;
+                    writeVarLong(out, (delta << 1) ^ (delta >> 63));
+                    previous = unscaled;
+                }
+            }
+        }
+        out.close();
+        deflater.end();
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,125 @@
+package net.arwix.astronomy.VSOP87;
+
+import net.arwix.astronomy.Epoch;
+
+import java.util.Locale;
+
+/**
+ * Сравнение скорости табличных рядов и рядов с общими частотами
+ * в установившемся режиме
+ * <p/>
+ * Запуск: java -cp target/classes:target/test-classes net.arwix.astronomy.VSOP87.VSOP87SeriesBenchmark
+ */
+public class VSOP87SeriesBenchmark {
+
+    private static final int WARMUP = 2000;
+    private static final int ITERATIONS = 2000;
+
+    public static void main(String[] args) throws Exception {
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Earth, VSOP87Objects.Mars, VSOP87Objects.Saturn}) {
+            final VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT);
+
+            run(series, WARMUP);
+            final double seriesTime = run(series, ITERATIONS);
+            final VSOP87Evaluator evaluator = new VSOP87Evaluator(series);
+            run(evaluator, WARMUP);
+            final double evaluatorTime = run(evaluator, ITERATIONS);
+
+            final int count = 24 * 365;
+            final double[] x = new double[count], y = new double[count], z = new double[count];
+            for (int i = 0; i < 20; i++) evaluator.evaluate(0.0147, 1.0 / 24.0 / 365250.0, count, x, y, z);
+            long start = System.nanoTime();
+            evaluator.evaluate(0.0147, 1.0 / 24.0 / 365250.0, count, x, y, z);
+            final double batchTime = (System.nanoTime() - start) / 1000.0 / count;
+
+            int terms = 0;
+            for (int i = 0; i < 3 * VSOP87Series.ORDERS; i++) terms += series.getTermCount(i / VSOP87Series.ORDERS, i % VSOP87Series.ORDERS);
+            System.out.println(String.format(Locale.ENGLISH,
+                    "C_%-8s table %6.1f us  shared %6.1f us  hourly batch %5.2f us  (cos %d -> sin+cos %d)",
+                    object.name(), seriesTime, evaluatorTime, batchTime,
+                    terms, 2 * series.getFrequencyCount()));
+
+            final double[] position = new double[3], velocity = new double[3];
+            for (int i = 0; i < WARMUP; i++) evaluator.evaluate(0.0147 + i * 1e-6, position, velocity);
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) evaluator.evaluate(0.0147 + i * 1e-6, position, velocity);
+            System.out.println(String.format(Locale.ENGLISH, "    position+velocity %5.1f us",
+                    (System.nanoTime() - start) / 1000.0 / ITERATIONS));
+
+            final double[] xy = new double[2];
+            for (int i = 0; i < WARMUP; i++) evaluator.evaluateXY(0.0147 + i * 1e-6, xy);
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) evaluator.evaluateXY(0.0147 + i * 1e-6, xy);
+            final double xyTime = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+            double sink = 0.0;
+            for (int i = 0; i < WARMUP; i++) sink += evaluator.evaluateZ(0.0147 + i * 1e-6);
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) sink += evaluator.evaluateZ(0.0147 + i * 1e-6);
+            final double zTime = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+            if (sink == 42.0) System.out.print("");
+            System.out.println(String.format(Locale.ENGLISH, "    X+Y only %5.1f us  Z only %5.1f us  (%d + %d of %d frequencies)",
+                    xyTime, zTime, series.xyFrequencies, series.frequencies.length - series.zFrequencies,
+                    series.frequencies.length));
+
+            final double[] frequencies = series.frequencies;
+            final double[] cos = new double[frequencies.length], sin = new double[frequencies.length];
+            runMath(frequencies, cos, sin, WARMUP);
+            runSinCos(frequencies, cos, sin, WARMUP);
+            System.out.println(String.format(Locale.ENGLISH, "    %d sin/cos pairs: Math %5.1f us  SinCos %5.1f us",
+                    frequencies.length, runMath(frequencies, cos, sin, ITERATIONS), runSinCos(frequencies, cos, sin, ITERATIONS)));
+
+            for (VSOP87Precision precision : VSOP87Precision.values()) {
+                final VSOP87Series truncated = VSOP87Series.get(object, Epoch.APPARENT, precision);
+                run(truncated, WARMUP);
+                System.out.println(String.format(Locale.ENGLISH, "    %-15s %7.1f us  error <= %.2e AU",
+                        precision.name(), run(truncated, ITERATIONS), truncated.getTruncationError()));
+            }
+        }
+    }
+
+    private static double run(VSOP87Series series, int iterations) {
+        final double[] out = new double[3];
+        double sink = 0.0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            series.evaluate(0.0147 + i * 1e-6, out);
+            sink += out[0] + out[1] + out[2];
+        }
+        final long time = System.nanoTime() - start;
+        if (sink == 42.0) System.out.print("");
+        return time / 1000.0 / iterations;
+    }
+
+    private static double run(VSOP87Evaluator evaluator, int iterations) {
+        final double[] out = new double[3];
+        double sink = 0.0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            evaluator.evaluate(0.0147 + i * 1e-6, out);
+            sink += out[0] + out[1] + out[2];
+        }
+        final long time = System.nanoTime() - start;
+        if (sink == 42.0) System.out.print("");
+        return time / 1000.0 / iterations;
+    }
+
+    private static double runMath(double[] frequencies, double[] cos, double[] sin, int iterations) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            final double t = 0.0147 + i * 1e-6;
+            for (int j = 0; j < frequencies.length; j++) {
+                cos[j] = Math.cos(frequencies[j] * t);
+                sin[j] = Math.sin(frequencies[j] * t);
+            }
+        }
+        return (System.nanoTime() - start) / 1000.0 / iterations;
+    }
+
+    private static double runSinCos(double[] frequencies, double[] cos, double[] sin, int iterations) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            SinCos.evaluate(frequencies, 1e6, 0.0147 + i * 1e-6, cos, sin);
+        }
+        return (System.nanoTime() - start) / 1000.0 / iterations;
+    }
+}
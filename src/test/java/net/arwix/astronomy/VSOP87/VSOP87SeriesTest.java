@@ -0,0 +1,329 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.AstroMath;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.StateVector;
+import net.arwix.astronomy.coordinates.Vector;
+import net.arwix.astronomy.coordinates.VectorType;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.zip.InflaterInputStream;
+
+public class VSOP87SeriesTest extends TestCase {
+
+    private static final double[] TIMES = {-4.0, -1.23456789, -0.1, 0.0, 0.0014712, 0.25, 1.0, 3.9};
+
+    /**
+     * Сравнение с эталоном VSOP87Reference.txt: суммы сгенерированных по текстовым таблицам методов
+     * X0(t) + ... + X5(t) побитово и хэш всех коэффициентов текстовых таблиц
+     */
+    public void testReference() throws Exception {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                VSOP87SeriesTest.class.getResourceAsStream("VSOP87Reference.txt"), "UTF-8"));
+        int values = 0;
+        int series = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) continue;
+                final String[] fields = line.split(" ");
+                final Epoch epoch = fields[0].startsWith("A_") ? Epoch.J2000 : Epoch.APPARENT;
+                final VSOP87Series actual = VSOP87Series.get(VSOP87Objects.valueOf(fields[0].substring(2)), epoch);
+                if (fields[1].equals("terms")) {
+                    int count = 0;
+                    long hash = 0;
+                    for (int block = 0; block < 3 * VSOP87Series.ORDERS; block++) {
+                        for (double term : actual.getTerms(block / VSOP87Series.ORDERS, block % VSOP87Series.ORDERS)) {
+                            hash = 31 * hash + Double.doubleToLongBits(term);
+                            count++;
+                        }
+                    }
+                    Assert.assertEquals(line, Integer.parseInt(fields[2]), count);
+                    Assert.assertEquals(line, new BigInteger(fields[3], 16).longValue(), hash);
+                    series++;
+                } else {
+                    final int coordinate = "XYZ".indexOf(fields[1]);
+                    final double t = Double.parseDouble(fields[2]);
+                    Assert.assertEquals(line, new BigInteger(fields[3], 16).longValue(),
+                            Double.doubleToLongBits(actual.evaluate(coordinate, t)));
+                    values++;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        Assert.assertEquals(16, series);
+        Assert.assertEquals(16 * 3 * TIMES.length, values);
+    }
+
+    /**
+     * Ресурсы совпадают с исходными текстовыми таблицами VSOP87 побитово, генератор по таблицам
+     * воспроизводит ресурс (сравнение до сжатия, Deflate разных версий zlib может отличаться)
+     */
+    public void testResourcesMatchText() throws Exception {
+        for (Epoch epoch : Epoch.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                if (object == VSOP87Objects.Sun) continue;
+                final String name = (epoch == Epoch.J2000 ? "A_" : "C_") + object.name() + ".txt";
+                final InputStream stream = VSOP87SeriesTest.class.getResourceAsStream(name);
+                final String[][] text;
+                try {
+                    text = VSOP87ResourceGenerator.readText(stream);
+                } finally {
+                    stream.close();
+                }
+                final ByteArrayOutputStream written = new ByteArrayOutputStream();
+                VSOP87ResourceGenerator.write(text, written);
+                Assert.assertTrue(name, Arrays.equals(inflate(VSOP87Series.class.getResourceAsStream(
+                        VSOP87Series.getResourceName(object, epoch))),
+                        inflate(new ByteArrayInputStream(written.toByteArray()))));
+                final VSOP87Series series = VSOP87Series.get(object, epoch);
+                for (int block = 0; block < text.length; block++) {
+                    final double[] terms = series.getTerms(block / VSOP87Series.ORDERS, block % VSOP87Series.ORDERS);
+                    Assert.assertEquals(name, text[block].length, terms.length);
+                    for (int i = 0; i < terms.length; i++) {
+                        Assert.assertEquals(name + " " + text[block][i], Double.doubleToLongBits(Double.parseDouble(text[block][i])),
+                                Double.doubleToLongBits(terms[i]));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testFrequencySharedEvaluator() throws Exception {
+        final double[] expected = new double[3];
+        final double[] actual = new double[3];
+        for (Epoch epoch : Epoch.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                VSOP87Series series = VSOP87Series.get(object, epoch);
+                VSOP87Evaluator evaluator = new VSOP87Evaluator(series);
+                for (double t : TIMES) {
+                    series.evaluate(t, expected);
+                    evaluator.evaluate(t, actual);
+                    for (int i = 0; i < 3; i++) {
+                        Assert.assertEquals(object + " " + epoch + " t=" + t, expected[i], actual[i], 1e-10);
+                    }
+                }
+            }
+        }
+        Assert.assertTrue(VSOP87Series.get(VSOP87Objects.Earth, Epoch.J2000).getFrequencyCount() < 1000);
+    }
+
+    public void testComponentSelectiveEvaluation() throws Exception {
+        final double[] expected = new double[3];
+        final double[] xy = new double[2];
+        for (Epoch epoch : Epoch.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                VSOP87Series series = VSOP87Series.get(object, epoch);
+                for (int block = 0; block < 3 * VSOP87Series.ORDERS; block++) {
+                    for (int index : series.frequencyIndex[block]) {
+                        if (block / VSOP87Series.ORDERS == VSOP87Series.Z) {
+                            Assert.assertTrue(object.name(), index >= series.zFrequencies);
+                        } else {
+                            Assert.assertTrue(object.name(), index < series.xyFrequencies);
+                        }
+                    }
+                }
+                VSOP87Evaluator evaluator = new VSOP87Evaluator(series);
+                for (double t : TIMES) {
+                    evaluator.evaluate(t, expected);
+                    evaluator.evaluateZ(t + 0.5);
+                    evaluator.evaluateXY(t, xy);
+                    Assert.assertEquals(object + " X t=" + t, expected[0], xy[0], 0.0);
+                    Assert.assertEquals(object + " Y t=" + t, expected[1], xy[1], 0.0);
+                    evaluator.evaluateXY(t + 0.5, xy);
+                    Assert.assertEquals(object + " Z t=" + t, expected[2], evaluator.evaluateZ(t), 0.0);
+                }
+            }
+        }
+        final double T = 0.147;
+        VSOP87Series.get(VSOP87Objects.Earth, Epoch.APPARENT).evaluate(T / 10.0, expected);
+        Assert.assertEquals(AstroMath.modulo(Math.atan2(expected[1], expected[0]), Constant.PI2),
+                VSOP87Objects.Earth.getGeometricEclipticLongitude(T, Epoch.APPARENT), 1e-15);
+        final Vector earth = VSOP87Series.get(VSOP87Objects.Earth, Epoch.APPARENT).getRectangularVector(T / 10.0);
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            final Vector position = VSOP87Series.get(object, Epoch.APPARENT).getRectangularVector(T / 10.0);
+            Assert.assertEquals(object.name(), position.norm(),
+                    object.getGeometricHeliocentricDistance(T, Epoch.APPARENT, VSOP87Precision.FULL), 1e-12);
+            Assert.assertEquals(object.name(), Vector.substract(position, earth).norm(),
+                    object.getGeometricGeocentricDistance(T, Epoch.APPARENT, VSOP87Precision.FULL), 1e-12);
+            final VSOP87Series truncated = VSOP87Series.get(object, Epoch.APPARENT, VSOP87Precision.ONE_ARCMINUTE);
+            Assert.assertEquals(object.name(), position.norm(),
+                    object.getGeometricHeliocentricDistance(T, Epoch.APPARENT, VSOP87Precision.ONE_ARCMINUTE),
+                    truncated.getTruncationError() + 1e-12);
+        }
+    }
+
+    public void testTimeSeries() throws Exception {
+        final int count = 1000;
+        final double[] x = new double[count];
+        final double[] y = new double[count];
+        final double[] z = new double[count];
+        final double[] expected = new double[3];
+        final double t0 = -0.0123;
+        // час и сутки в юлианских тысячелетиях
+        for (double step : new double[]{1.0 / 24.0 / 365250.0, 1.0 / 365250.0}) {
+            for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Mercury, VSOP87Objects.Earth, VSOP87Objects.Saturn}) {
+                VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT);
+                new VSOP87Evaluator(series).evaluate(t0, step, count, x, y, z);
+                for (int i = 0; i < count; i++) {
+                    series.evaluate(t0 + i * step, expected);
+                    Assert.assertEquals(object + " x " + i, expected[0], x[i], 1e-10);
+                    Assert.assertEquals(object + " y " + i, expected[1], y[i], 1e-10);
+                    Assert.assertEquals(object + " z " + i, expected[2], z[i], 1e-10);
+                }
+            }
+        }
+    }
+
+    public void testTruncatedSeriesErrorBound() throws Exception {
+        final double[] full = new double[3];
+        final double[] truncated = new double[3];
+        for (VSOP87Precision precision : VSOP87Precision.values()) {
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                VSOP87Series fullSeries = VSOP87Series.get(object, Epoch.APPARENT);
+                VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT, precision);
+                if (precision == VSOP87Precision.FULL) Assert.assertSame(fullSeries, series);
+                for (int i = 0; i <= 200; i++) {
+                    final double t = -VSOP87Series.T_SPAN + i * 2.0 * VSOP87Series.T_SPAN / 200;
+                    fullSeries.evaluate(t, full);
+                    series.evaluate(t, truncated);
+                    final double dx = full[0] - truncated[0], dy = full[1] - truncated[1], dz = full[2] - truncated[2];
+                    final double error = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                    Assert.assertTrue(object + " " + precision + " t=" + t, error <= series.getTruncationError() + 1e-12);
+                    if (object == VSOP87Objects.Sun) continue;
+                    final double r = Math.sqrt(full[0] * full[0] + full[1] * full[1] + full[2] * full[2]);
+                    Assert.assertTrue(object + " " + precision + " angle t=" + t, error / r <= precision.getTolerance() + 1e-15);
+                }
+            }
+        }
+        final VSOP87Series earth = VSOP87Series.get(VSOP87Objects.Earth, Epoch.APPARENT, VSOP87Precision.ONE_ARCMINUTE);
+        Assert.assertTrue(earth.getTermCount(VSOP87Series.X, 0) < VSOP87Series.get(VSOP87Objects.Earth, Epoch.APPARENT).getTermCount(VSOP87Series.X, 0) / 10);
+    }
+
+    public void testAnalyticVelocity() throws Exception {
+        final double[] position = new double[3];
+        final double[] velocity = new double[3];
+        final double[] expected = new double[3];
+        final double[] before = new double[3];
+        final double[] after = new double[3];
+        final double h = 1e-7;
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            VSOP87Series series = VSOP87Series.get(object, Epoch.J2000);
+            VSOP87Evaluator evaluator = new VSOP87Evaluator(series);
+            for (double t : TIMES) {
+                evaluator.evaluate(t, position, velocity);
+                series.evaluate(t, expected);
+                series.evaluate(t - h, before);
+                series.evaluate(t + h, after);
+                for (int i = 0; i < 3; i++) {
+                    Assert.assertEquals(object + " position t=" + t, expected[i], position[i], 1e-10);
+                    final double difference = (after[i] - before[i]) / (2 * h);
+                    Assert.assertEquals(object + " velocity t=" + t, difference, velocity[i], 1e-5 * Math.abs(difference) + 1e-6);
+                }
+            }
+        }
+    }
+
+    public void testHeliocentricEclipticState() throws Exception {
+        final double T = 0.147;
+        StateVector state = VSOP87Objects.Mars.getHeliocentricEclipticState(T, Epoch.APPARENT);
+        Vector position = VSOP87Objects.Mars.getHeliocentricEclipticPosition(T, Epoch.APPARENT);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(state.position, position)), 1e-10);
+
+        // скорость в а.е. за сутки
+        final double day = 1.0 / 36525.0;
+        Vector before = VSOP87Objects.Mars.getHeliocentricEclipticPosition(T - day, Epoch.APPARENT);
+        Vector after = VSOP87Objects.Mars.getHeliocentricEclipticPosition(T + day, Epoch.APPARENT);
+        Vector difference = Vector.scalarDivide(Vector.substract(after, before), 2.0);
+        // скорость геометрическая, разность положений дополнительно учитывает изменение светового времени
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(state.velocity, difference)), 1e-6);
+    }
+
+    public void testHeliocentricEclipticStateLightTime() throws Exception {
+        final double[] earth = new double[3];
+        final double[] position = new double[3];
+        final double[] velocity = new double[3];
+        for (VSOP87Objects object : VSOP87Objects.values()) {
+            VSOP87Evaluator evaluator = new VSOP87Evaluator(VSOP87Series.get(object, Epoch.APPARENT));
+            for (int i = 0; i <= 40; i++) {
+                final double T = -1.0 + i * 0.05;
+                new VSOP87Evaluator(VSOP87Series.get(VSOP87Objects.Earth, Epoch.APPARENT)).evaluate(T / 10.0, earth);
+                evaluator.evaluate(T / 10.0, position);
+                final double dx = position[0] - earth[0], dy = position[1] - earth[1], dz = position[2] - earth[2];
+                final double dT = Math.sqrt(dx * dx + dy * dy + dz * dz) / Constant.C_Light;
+                // точный проход на момент T - световое время
+                evaluator.evaluate(T / 10.0 - dT / 365250.0, position, velocity);
+                StateVector state = object.getHeliocentricEclipticState(T, Epoch.APPARENT);
+                double[] p = ((RectangularVector) state.position.getVectorInType(VectorType.RECTANGULAR)).toArray();
+                double[] v = ((RectangularVector) state.velocity.getVectorInType(VectorType.RECTANGULAR)).toArray();
+                final double speed = Math.sqrt(velocity[0] * velocity[0] + velocity[1] * velocity[1]
+                        + velocity[2] * velocity[2]) / 365250.0;
+                for (int k = 0; k < 3; k++) {
+                    Assert.assertEquals(object + " position T=" + T, position[k], p[k], VSOP87Objects.LIGHT_TIME_TOLERANCE);
+                    Assert.assertEquals(object + " velocity T=" + T, velocity[k] / 365250.0, v[k], 1e-5 * speed);
+                }
+            }
+        }
+    }
+
+    public void testEvaluatorPerThread() throws Exception {
+        final VSOP87Evaluator evaluator = VSOP87Objects.getEvaluator(VSOP87Objects.Mars, Epoch.J2000, VSOP87Precision.FULL);
+        Assert.assertSame(evaluator, VSOP87Objects.getEvaluator(VSOP87Objects.Mars, Epoch.J2000, VSOP87Precision.FULL));
+        Assert.assertNotSame(evaluator, VSOP87Objects.getEvaluator(VSOP87Objects.Mars, Epoch.APPARENT, VSOP87Precision.FULL));
+        final VSOP87Evaluator[] other = new VSOP87Evaluator[1];
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = VSOP87Objects.getEvaluator(VSOP87Objects.Mars, Epoch.J2000, VSOP87Precision.FULL);
+            }
+        };
+        thread.start();
+        thread.join();
+        Assert.assertNotNull(other[0]);
+        Assert.assertNotSame(evaluator, other[0]);
+    }
+
+    public void testSun() throws Exception {
+        double[] out = {1.0, 1.0, 1.0};
+        VSOP87Series.get(VSOP87Objects.Sun, Epoch.APPARENT).evaluate(0.5, out);
+        Assert.assertEquals(0.0, out[0]);
+        Assert.assertEquals(0.0, out[1]);
+        Assert.assertEquals(0.0, out[2]);
+    }
+
+    public void testTermCount() throws Exception {
+        VSOP87Series series = VSOP87Series.get(VSOP87Objects.Earth, Epoch.J2000);
+        Assert.assertEquals(843, series.getTermCount(VSOP87Series.X, 0));
+        Assert.assertSame(series, VSOP87Series.get(VSOP87Objects.Earth, Epoch.J2000));
+    }
+
+    public void testPreload() throws Exception {
+        VSOP87Series.preload(Epoch.APPARENT, VSOP87Objects.Earth, VSOP87Objects.Mars);
+        VSOP87Series.preload(Epoch.J2000);
+        Assert.assertEquals(843, VSOP87Series.get(VSOP87Objects.Earth, Epoch.J2000).getTermCount(VSOP87Series.X, 0));
+    }
+
+    private static byte[] inflate(InputStream stream) throws Exception {
+        final InputStream in = new InflaterInputStream(stream);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            final byte[] buffer = new byte[1 << 16];
+            int read;
+            while ((read = in.read(buffer)) > 0) out.write(buffer, 0, read);
+        } finally {
+            in.close();
+        }
+        return out.toByteArray();
+    }
+}
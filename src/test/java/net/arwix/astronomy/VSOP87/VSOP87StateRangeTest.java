@@ -0,0 +1,85 @@
+package net.arwix.astronomy.VSOP87;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+public class VSOP87StateRangeTest extends TestCase {
+
+    private static final VSOP87Objects[] OBJECTS = {VSOP87Objects.Sun, VSOP87Objects.Mercury, VSOP87Objects.Saturn};
+    private static final double START_T = 0.1573;
+    private static final double STEP = 1.0 / 24.0;
+    private static final int COUNT = 3 * VSOP87StateRange.CHUNK_SIZE + 77;
+
+    public void testAgainstSeries() throws Exception {
+        final double[][] positions = new double[OBJECTS.length][3 * COUNT];
+        final double[][] velocities = new double[OBJECTS.length][3 * COUNT];
+        final VSOP87StateRange range = new VSOP87StateRange(OBJECTS, Epoch.APPARENT, START_T, STEP, COUNT);
+        range.fill(new ForkJoinPool(2), positions, velocities);
+        Assert.assertEquals(0, range.size());
+
+        final double[] position = new double[3];
+        final double[] velocity = new double[3];
+        for (int o = 0; o < OBJECTS.length; o++) {
+            final VSOP87Evaluator evaluator = new VSOP87Evaluator(VSOP87Series.get(OBJECTS[o], Epoch.APPARENT));
+            for (int i = 0; i < COUNT; i += 37) {
+                evaluator.evaluate(range.getT(i) / 10.0, position, velocity);
+                for (int c = 0; c < 3; c++) {
+                    Assert.assertEquals(OBJECTS[o] + " " + i, position[c], positions[o][3 * i + c], 1e-10);
+                    Assert.assertEquals(OBJECTS[o] + " " + i, velocity[c] / 365250.0, velocities[o][3 * i + c], 1e-12);
+                }
+            }
+        }
+    }
+
+    public void testDeterministicOrder() throws Exception {
+        final double[][] expected = new double[OBJECTS.length][3 * COUNT];
+        new VSOP87StateRange(OBJECTS, Epoch.J2000, START_T, STEP, COUNT).forEachChunk(new Collector(expected));
+
+        final double[][] parallel = new double[OBJECTS.length][3 * COUNT];
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            new VSOP87StateRange(OBJECTS, Epoch.J2000, START_T, STEP, COUNT).forEachChunk(executor, new Collector(parallel));
+        } finally {
+            executor.shutdown();
+        }
+
+        final double[][] split = new double[OBJECTS.length][3 * COUNT];
+        final VSOP87StateRange range = new VSOP87StateRange(OBJECTS, Epoch.J2000, START_T, STEP, COUNT);
+        final VSOP87StateRange first = range.trySplit();
+        Assert.assertEquals(2 * VSOP87StateRange.CHUNK_SIZE, first.size());
+        Assert.assertEquals(2 * VSOP87StateRange.CHUNK_SIZE, range.getFrom());
+        range.forEachChunk(new Collector(split));
+        first.forEachChunk(new Collector(split));
+
+        for (int o = 0; o < OBJECTS.length; o++) {
+            for (int i = 0; i < 3 * COUNT; i++) {
+                Assert.assertEquals(Double.doubleToLongBits(expected[o][i]), Double.doubleToLongBits(parallel[o][i]));
+                Assert.assertEquals(Double.doubleToLongBits(expected[o][i]), Double.doubleToLongBits(split[o][i]));
+            }
+        }
+    }
+
+    private static class Collector implements VSOP87StateRange.ChunkVisitor {
+        private final double[][] positions;
+        private long next = -1;
+
+        Collector(double[][] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public void visit(VSOP87StateRange.Chunk chunk) {
+            // части приходят по порядку
+            if (next >= 0) Assert.assertEquals(next, chunk.from);
+            next = chunk.from + chunk.count;
+            for (int o = 0; o < positions.length; o++) {
+                System.arraycopy(chunk.positions[o], 0, positions[o], (int) (3 * chunk.from), 3 * chunk.count);
+            }
+        }
+    }
+}
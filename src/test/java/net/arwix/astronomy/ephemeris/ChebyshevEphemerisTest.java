@@ -0,0 +1,75 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+import net.arwix.astronomy.coordinates.Vector;
+
+public class ChebyshevEphemerisTest extends TestCase {
+
+    private static final double START_T = 0.14;
+    private static final double END_T = 0.16;
+    private static final double TOLERANCE = 1e-9;
+
+    private static ChebyshevEphemeris sEphemeris;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        if (sEphemeris == null) {
+            sEphemeris = ChebyshevEphemeris.fit(new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Mercury, VSOP87Objects.Mars},
+                    Epoch.APPARENT, START_T, END_T, TOLERANCE);
+        }
+    }
+
+    public void testEclipticPosition() throws Exception {
+        final double[] expected = new double[3];
+        final double[] actual = new double[3];
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Mercury, VSOP87Objects.Earth, VSOP87Objects.Mars}) {
+            Assert.assertTrue(sEphemeris.contains(object));
+            VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT);
+            for (int i = 0; i <= 997; i++) {
+                final double T = START_T + (END_T - START_T) * i / 997;
+                series.evaluate(T / 10.0, expected);
+                sEphemeris.getEclipticPosition(object, T, actual);
+                final double dx = expected[0] - actual[0], dy = expected[1] - actual[1], dz = expected[2] - actual[2];
+                Assert.assertTrue(object + " T=" + T, Math.sqrt(dx * dx + dy * dy + dz * dz) < 2 * TOLERANCE);
+            }
+        }
+        Assert.assertFalse(sEphemeris.contains(VSOP87Objects.Neptune));
+        Assert.assertTrue(sEphemeris.getSegmentCount(VSOP87Objects.Mercury) > sEphemeris.getSegmentCount(VSOP87Objects.Mars));
+    }
+
+    public void testGeocentricEquatorialPosition() throws Exception {
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Mercury, VSOP87Objects.Mars}) {
+            final double T = 0.1473;
+            Vector expected = object.getGeocentricEquatorialPosition(T, Epoch.APPARENT);
+            Vector actual = sEphemeris.getCoordinates(object).getGeocentricEquatorialPosition(T, Epoch.APPARENT);
+            Assert.assertEquals(object.name(), 0.0, Vector.norm(Vector.substract(expected, actual)), 4 * TOLERANCE);
+        }
+    }
+
+    public void testOutOfRange() throws Exception {
+        try {
+            sEphemeris.getEclipticPosition(VSOP87Objects.Mars, END_T + 0.01, new double[3]);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+        try {
+            sEphemeris.getCoordinates(VSOP87Objects.Mars).getGeocentricEquatorialPosition(0.15, Epoch.J2000);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testUnreachableTolerance() throws Exception {
+        // меньше шума вычисления рядов: отрезки делятся до суток, затем ошибка
+        try {
+            ChebyshevEphemeris.fit(new VSOP87Objects[]{VSOP87Objects.Mercury}, Epoch.J2000, 0.1, 0.1005, 1e-20);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            Assert.assertTrue(expected.getMessage(), expected.getMessage().startsWith("Mercury"));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Location;
+import net.arwix.astronomy.coordinates.Vector;
+import net.arwix.astronomy.events.ObjectType;
+import net.arwix.astronomy.events.RiseSetEvent;
+import net.arwix.astronomy.events.TwilightEvent;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+public class CompactSunTest extends TestCase {
+
+    private static final Location[] LOCATIONS = {
+            new Location(Math.toRadians(30.3290233), Math.toRadians(59.909328)),
+            new Location(Math.toRadians(-58.38), Math.toRadians(-34.6)),
+            new Location(Math.toRadians(103.8), Math.toRadians(1.3)),
+            new Location(Math.toRadians(-147.7), Math.toRadians(64.8))};
+
+    public void tearDown() throws Exception {
+        EphemerisProviders.unregister(CompactSun.INSTANCE);
+        super.tearDown();
+    }
+
+    public void testAccuracy() throws Exception {
+        for (Epoch epoch : Epoch.values()) {
+            for (int i = 0; i <= 2000; i++) {
+                final double T = -CompactSun.T_SPAN + i * 2.0 * CompactSun.T_SPAN / 2000;
+                Vector expected = VSOP87Objects.Sun.getGeocentricEquatorialPosition(T, epoch);
+                Vector actual = CompactSun.INSTANCE.getGeocentricEquatorialPosition(T, epoch);
+                final double error = Vector.norm(Vector.substract(expected, actual));
+                Assert.assertTrue(epoch + " T=" + T, error <= CompactSun.ACCURACY);
+                Assert.assertTrue(epoch + " T=" + T, error / expected.norm() * Constant.ARCS <= 6.5);
+            }
+        }
+    }
+
+    public void testRiseSet() throws Exception {
+        final Calendar date = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        date.clear();
+        date.set(2014, Calendar.JANUARY, 3, 12, 0, 0);
+        double max = 0.0;
+        for (int day = 0; day < 365; day += 7) {
+            for (Location location : LOCATIONS) {
+                RiseSetEvent expected = new RiseSetEvent(ObjectType.Sun, VSOP87Objects.Sun);
+                RiseSetEvent actual = new RiseSetEvent(ObjectType.Sun, CompactSun.INSTANCE);
+                TwilightEvent expectedTwilight = new TwilightEvent(VSOP87Objects.Sun);
+                TwilightEvent actualTwilight = new TwilightEvent(CompactSun.INSTANCE);
+                expectedTwilight.setTwilightType(TwilightEvent.TwilightType.Civil);
+                actualTwilight.setTwilightType(TwilightEvent.TwilightType.Civil);
+                setUp(expected, date, location);
+                setUp(actual, date, location);
+                setUp(expectedTwilight, date, location);
+                setUp(actualTwilight, date, location);
+                max = Math.max(max, difference(expected.getRiseTime(), actual.getRiseTime()));
+                max = Math.max(max, difference(expected.getSetTime(), actual.getSetTime()));
+                max = Math.max(max, difference(expectedTwilight.getBeginEvent(), actualTwilight.getBeginEvent()));
+                max = Math.max(max, difference(expectedTwilight.getEndEvent(), actualTwilight.getEndEvent()));
+                Assert.assertEquals(expected.getAbove(), actual.getAbove());
+            }
+            date.add(Calendar.DAY_OF_MONTH, 7);
+        }
+        // событие с точностью до минуты, отличие моделей - секунды
+        Assert.assertTrue("max " + max + " ms", max <= 3000);
+    }
+
+    public void testProvider() throws Exception {
+        final double T = 0.1437;
+        EphemerisProviders.register(CompactSun.INSTANCE, VSOP87Objects.Sun);
+        Assert.assertSame(CompactSun.INSTANCE, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, T, 1.0));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, T, 1e-6));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 3.5, 1.0));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Mars, Epoch.APPARENT, T, 1.0));
+        GeocentricEquatorialCoordinates coordinates = EphemerisProviders.getCoordinates(VSOP87Objects.Sun, CompactSun.ACCURACY);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(CompactSun.INSTANCE.getGeocentricEquatorialPosition(T, Epoch.APPARENT),
+                coordinates.getGeocentricEquatorialPosition(T, Epoch.APPARENT))), 0.0);
+        // по умолчанию грубый источник не заменяет полные ряды
+        coordinates = EphemerisProviders.getCoordinates(VSOP87Objects.Sun);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(VSOP87Objects.Sun.getGeocentricEquatorialPosition(T, Epoch.APPARENT),
+                coordinates.getGeocentricEquatorialPosition(T, Epoch.APPARENT))), 0.0);
+        final TwilightEvent event = new TwilightEvent();
+        final TwilightEvent expected = new TwilightEvent(VSOP87Objects.Sun);
+        final Calendar date = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        date.clear();
+        date.set(2014, Calendar.MARCH, 3, 12, 0, 0);
+        event.setTwilightType(TwilightEvent.TwilightType.Civil);
+        expected.setTwilightType(TwilightEvent.TwilightType.Civil);
+        setUp(event, date, LOCATIONS[0]);
+        setUp(expected, date, LOCATIONS[0]);
+        Assert.assertEquals(0.0, difference(expected.getBeginEvent(), event.getBeginEvent()));
+    }
+
+    private static void setUp(RiseSetEvent event, Calendar date, Location location) {
+        event.setDate((Calendar) date.clone());
+        event.setLocation(location);
+    }
+
+    private static void setUp(TwilightEvent event, Calendar date, Location location) {
+        event.setDate((Calendar) date.clone());
+        event.setLocation(location);
+    }
+
+    private static double difference(Calendar expected, Calendar actual) {
+        Assert.assertEquals(expected == null, actual == null);
+        if (expected == null) return 0.0;
+        return Math.abs(expected.getTimeInMillis() - actual.getTimeInMillis());
+    }
+}
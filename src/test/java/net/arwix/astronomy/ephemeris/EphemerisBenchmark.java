@@ -0,0 +1,75 @@
+package net.arwix.astronomy.ephemeris;
+
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Скорость построения и вычисления эфемерид Чебышева в сравнении с рядами VSOP87
+ * <p/>
+ * Запуск: java -cp target/classes:target/test-classes net.arwix.astronomy.ephemeris.EphemerisBenchmark
+ */
+public class EphemerisBenchmark {
+
+    private static final int ITERATIONS = 200000;
+
+    public static void main(String[] args) throws Exception {
+        final double startT = 0.1;
+        final double endT = 0.2;
+
+        long start = System.nanoTime();
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(VSOP87Objects.values(), Epoch.APPARENT, startT, endT, 1e-9);
+        System.out.println(String.format(Locale.ENGLISH, "fit 10 years, 1e-9 AU: %.0f ms",
+                (System.nanoTime() - start) / 1e6));
+
+        final File file = File.createTempFile("ephemeris", ".bin");
+        file.deleteOnExit();
+        EphemerisFile.write(ephemeris, file);
+        start = System.nanoTime();
+        MappedEphemeris mapped = EphemerisFile.map(file);
+        System.out.println(String.format(Locale.ENGLISH, "map %d bytes: %.3f ms",
+                file.length(), (System.nanoTime() - start) / 1e6));
+
+        final double[] out = new double[3];
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Mercury, VSOP87Objects.Earth, VSOP87Objects.Saturn}) {
+            double sink = 0.0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                ephemeris.getEclipticPosition(object, startT + (endT - startT) * i / ITERATIONS, out);
+                sink += out[0];
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ephemeris.getEclipticPosition(object, startT + (endT - startT) * i / ITERATIONS, out);
+                sink += out[0];
+            }
+            final double chebyshevTime = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapped.getEclipticPosition(object, startT + (endT - startT) * i / ITERATIONS, out);
+                sink += out[0];
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapped.getEclipticPosition(object, startT + (endT - startT) * i / ITERATIONS, out);
+                sink += out[0];
+            }
+            final double mappedTime = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+
+            VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT);
+            for (int i = 0; i < 1000; i++) series.evaluate(0.015 + i * 1e-7, out);
+            start = System.nanoTime();
+            for (int i = 0; i < 1000; i++) {
+                series.evaluate(0.015 + i * 1e-7, out);
+                sink += out[0];
+            }
+            final double seriesTime = (System.nanoTime() - start) / 1000.0 / 1000;
+            if (sink == 42.0) System.out.print("");
+
+            System.out.println(String.format(Locale.ENGLISH, "%-8s segments %5d  chebyshev %.3f us  mapped %.3f us  VSOP87 %.1f us",
+                    object.name(), ephemeris.getSegmentCount(object), chebyshevTime, mappedTime, seriesTime));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public class EphemerisFileTest extends TestCase {
+
+    private static final double START_T = 0.14;
+    private static final double END_T = 0.15;
+
+    private File file;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        file = File.createTempFile("ephemeris", ".bin");
+    }
+
+    public void tearDown() throws Exception {
+        file.delete();
+        super.tearDown();
+    }
+
+    public void testWriteAndMap() throws Exception {
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Venus},
+                Epoch.J2000, START_T, END_T, 1e-8);
+        EphemerisFile.write(ephemeris, file);
+        MappedEphemeris mapped = EphemerisFile.map(file);
+
+        Assert.assertEquals(Epoch.J2000, mapped.getEpoch());
+        Assert.assertEquals(START_T, mapped.getStartT());
+        Assert.assertEquals(END_T, mapped.getEndT());
+        Assert.assertEquals(1e-8, mapped.getTolerance());
+        Assert.assertFalse(mapped.contains(VSOP87Objects.Mars));
+
+        final double[] expected = new double[3];
+        final double[] actual = new double[3];
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Venus, VSOP87Objects.Earth}) {
+            Assert.assertEquals(ephemeris.getSegmentCount(object), mapped.getSegmentCount(object));
+            for (int i = 0; i <= 101; i++) {
+                final double T = START_T + (END_T - START_T) * i / 101;
+                ephemeris.getEclipticPosition(object, T, expected);
+                mapped.getEclipticPosition(object, T, actual);
+                for (int c = 0; c < 3; c++) Assert.assertEquals(object + " T=" + T, expected[c], actual[c]);
+            }
+        }
+        Vector expectedVector = ephemeris.getGeocentricEquatorialPosition(VSOP87Objects.Venus, 0.1456);
+        Vector actualVector = mapped.getCoordinates(VSOP87Objects.Venus).getGeocentricEquatorialPosition(0.1456, Epoch.J2000);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expectedVector, actualVector)), 0.0);
+
+        try {
+            mapped.getEclipticPosition(VSOP87Objects.Venus, END_T + 0.01, actual);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testNotEphemerisFile() throws Exception {
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(new byte[300]);
+        } finally {
+            output.close();
+        }
+        try {
+            EphemerisFile.map(file);
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+}
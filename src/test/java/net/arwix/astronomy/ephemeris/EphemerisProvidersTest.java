@@ -0,0 +1,59 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Precision;
+import net.arwix.astronomy.coordinates.Vector;
+
+public class EphemerisProvidersTest extends TestCase {
+
+    private ChebyshevEphemeris ephemeris;
+    private VSOP87Provider truncated;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        ephemeris = ChebyshevEphemeris.fit(new VSOP87Objects[]{VSOP87Objects.Sun}, Epoch.APPARENT, 0.14, 0.15, 1e-9);
+        truncated = new VSOP87Provider(VSOP87Precision.ONE_ARCMINUTE);
+    }
+
+    public void tearDown() throws Exception {
+        EphemerisProviders.unregister(ephemeris);
+        EphemerisProviders.unregister(truncated);
+        super.tearDown();
+    }
+
+    public void testSelect() throws Exception {
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 0.145, 1.0));
+
+        EphemerisProviders.register(truncated, VSOP87Objects.Mars);
+        EphemerisProviders.register(ephemeris);
+        // последний зарегистрированный источник, покрывающий момент времени
+        Assert.assertSame(ephemeris, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 0.145, 1.0));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 0.16, 1.0));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.J2000, 0.145, 1.0));
+        // точность
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 0.145, 1e-10));
+        // регистрация для объекта
+        Assert.assertSame(truncated, EphemerisProviders.select(VSOP87Objects.Mars, Epoch.APPARENT, 0.145, 1.0));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Mars, Epoch.APPARENT, 0.145, 1e-6));
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Venus, Epoch.APPARENT, 0.145, 1.0));
+
+        EphemerisProviders.unregister(ephemeris);
+        Assert.assertSame(VSOP87Provider.FULL, EphemerisProviders.select(VSOP87Objects.Sun, Epoch.APPARENT, 0.145, 1.0));
+    }
+
+    public void testCoordinates() throws Exception {
+        EphemerisProviders.register(ephemeris);
+        final double T = 0.1437;
+        Vector expected = VSOP87Objects.Sun.getGeocentricEquatorialPosition(T, Epoch.APPARENT);
+        Vector actual = EphemerisProviders.getCoordinates(VSOP87Objects.Sun).getGeocentricEquatorialPosition(T, Epoch.APPARENT);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, actual)), 4e-9);
+        Assert.assertTrue(Vector.norm(Vector.substract(expected, actual)) > 0.0);
+        // вне интервала эфемерид - полные ряды
+        expected = VSOP87Objects.Sun.getGeocentricEquatorialPosition(0.2, Epoch.APPARENT);
+        actual = EphemerisProviders.getCoordinates(VSOP87Objects.Sun).getGeocentricEquatorialPosition(0.2, Epoch.APPARENT);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, actual)), 0.0);
+    }
+}
@@ -0,0 +1,93 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.VSOP87.VSOP87Series;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class HermiteEphemerisTest extends TestCase {
+
+    private static final double MAX_ERROR = 1e-9;
+
+    public void testInterpolationError() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HermiteEphemeris ephemeris = new HermiteEphemeris(VSOP87Objects.values(), Epoch.APPARENT, MAX_ERROR, 10.0, executor);
+            final double[] expected = new double[3];
+            final double[] actual = new double[3];
+            for (VSOP87Objects object : VSOP87Objects.values()) {
+                VSOP87Series series = VSOP87Series.get(object, Epoch.APPARENT);
+                // 40 суток вперед и назад по кадрам в 1 час
+                for (int i = -960; i <= 960; i += 7) {
+                    final double T = 0.1573 + i / 24.0 / 36525.0;
+                    series.evaluate(T / 10.0, expected);
+                    ephemeris.getEclipticPosition(object, T, actual);
+                    final double dx = expected[0] - actual[0], dy = expected[1] - actual[1], dz = expected[2] - actual[2];
+                    Assert.assertTrue(object + " T=" + T, Math.sqrt(dx * dx + dy * dy + dz * dz) <= MAX_ERROR);
+                }
+            }
+            Assert.assertTrue(ephemeris.getStep(VSOP87Objects.Mercury) < ephemeris.getStep(VSOP87Objects.Jupiter));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testBusyPrefetch() throws Exception {
+        final ExecutorService prefetch = Executors.newSingleThreadExecutor();
+        final ExecutorService caller = Executors.newSingleThreadExecutor();
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // исполнитель prefetch занят, окно 1 стоит в очереди
+            prefetch.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            final HermiteEphemeris ephemeris = new HermiteEphemeris(new VSOP87Objects[]{VSOP87Objects.Mars},
+                    Epoch.APPARENT, MAX_ERROR, 10.0, prefetch);
+            final double[] out = new double[3];
+            ephemeris.getEclipticPosition(VSOP87Objects.Mars, 5.0 / 36525.0, out);
+            final Future<double[]> next = caller.submit(new Callable<double[]>() {
+                @Override
+                public double[] call() throws Exception {
+                    final double[] out = new double[3];
+                    ephemeris.getEclipticPosition(VSOP87Objects.Mars, 15.0 / 36525.0, out);
+                    return out;
+                }
+            });
+            final double[] expected = new double[3];
+            VSOP87Series.get(VSOP87Objects.Mars, Epoch.APPARENT).evaluate(15.0 / 36525.0 / 10.0, expected);
+            final double[] actual = next.get(30, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) Assert.assertEquals(expected[i], actual[i], MAX_ERROR);
+        } finally {
+            release.countDown();
+            prefetch.shutdown();
+            caller.shutdown();
+        }
+    }
+
+    public void testGeocentricEquatorialPosition() throws Exception {
+        HermiteEphemeris ephemeris = new HermiteEphemeris(new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Mars},
+                Epoch.J2000, MAX_ERROR, 30.0, null);
+        for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Mars}) {
+            Vector expected = object.getGeocentricEquatorialPosition(0.1573, Epoch.J2000);
+            Vector actual = ephemeris.getCoordinates(object).getGeocentricEquatorialPosition(0.1573, Epoch.J2000);
+            Assert.assertEquals(object.name(), 0.0, Vector.norm(Vector.substract(expected, actual)), 4 * MAX_ERROR);
+        }
+        Assert.assertFalse(ephemeris.contains(VSOP87Objects.Venus));
+    }
+}
@@ -0,0 +1,95 @@
+package net.arwix.astronomy.ephemeris;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.Constant;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.RectangularVector;
+import net.arwix.astronomy.coordinates.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class PositionCacheTest extends TestCase {
+
+    private static final double SECOND = Constant.JD_SECOND / 36525.0;
+
+    public void testQuantizedHits() throws Exception {
+        PositionCache cache = new PositionCache(Constant.JD_SECOND, 100);
+        final double T = 0.1573;
+        final double quantized = Math.round(T / SECOND) * SECOND;
+        Vector expected = VSOP87Objects.Mars.getGeocentricEquatorialPosition(quantized, Epoch.APPARENT);
+
+        Vector first = cache.getGeocentricEquatorialPosition(VSOP87Objects.Mars, T, Epoch.APPARENT);
+        Vector second = cache.getGeocentricEquatorialPosition(VSOP87Objects.Mars, T + 0.3 * SECOND, Epoch.APPARENT);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, first)), 0.0);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, second)), 0.0);
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+
+        // другая эпоха, вид координат и объект - другие ключи
+        cache.getGeocentricEquatorialPosition(VSOP87Objects.Mars, T, Epoch.J2000);
+        cache.getHeliocentricEclipticPosition(VSOP87Objects.Mars, T, Epoch.APPARENT);
+        cache.getGeocentricEquatorialPosition(VSOP87Objects.Venus, T, Epoch.APPARENT);
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(4, cache.size());
+    }
+
+    public void testDefensiveCopy() throws Exception {
+        PositionCache cache = new PositionCache(Constant.JD_SECOND, 100);
+        Vector first = cache.getHeliocentricEclipticPosition(VSOP87Objects.Mars, 0.1, Epoch.J2000);
+        Vector expected = new RectangularVector(first);
+        first.add(new RectangularVector(1.0, 1.0, 1.0));
+        ((RectangularVector) first).x = 42.0;
+        Vector second = cache.getHeliocentricEclipticPosition(VSOP87Objects.Mars, 0.1, Epoch.J2000);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, second)), 0.0);
+        second.add(new RectangularVector(1.0, 1.0, 1.0));
+        Vector third = cache.getHeliocentricEclipticPosition(VSOP87Objects.Mars, 0.1, Epoch.J2000);
+        Assert.assertEquals(0.0, Vector.norm(Vector.substract(expected, third)), 0.0);
+    }
+
+    public void testEviction() throws Exception {
+        PositionCache cache = new PositionCache(VSOP87Provider.FULL, Constant.JD_HOUR, 32);
+        for (int i = 0; i < 200; i++) {
+            cache.getHeliocentricEclipticPosition(VSOP87Objects.Earth, 0.1 + i * Constant.JD_HOUR / 36525.0, Epoch.J2000);
+        }
+        Assert.assertTrue(cache.size() <= 32);
+        Assert.assertEquals(200 - cache.size(), cache.getEvictionCount());
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    public void testConcurrentAccess() throws Exception {
+        final PositionCache cache = new PositionCache(Constant.JD_MINUTE, 64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int thread = 0; thread < 4; thread++) {
+                final int seed = thread;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        for (int i = 0; i < 200; i++) {
+                            final double T = 0.15 + ((i * 7 + seed) % 20) * Constant.JD_MINUTE / 36525.0;
+                            Vector vector = cache.getGeocentricEquatorialPosition(VSOP87Objects.Sun, T, Epoch.APPARENT);
+                            Vector expected = VSOP87Objects.Sun.getGeocentricEquatorialPosition(T, Epoch.APPARENT);
+                            if (Vector.norm(Vector.substract(expected, vector)) > 1e-12) return false;
+                            vector.scalarMultiply(-1.0);
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) Assert.assertTrue(result.get());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(800, cache.getHitCount() + cache.getMissCount());
+        Assert.assertTrue(cache.getHitCount() > 0);
+    }
+}
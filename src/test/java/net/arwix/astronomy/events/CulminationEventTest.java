@@ -59,4 +59,17 @@ public class CulminationEventTest extends TestCase {
                 culminationEvent.isLowerAbove(),
                 false);
     }
-}
\ No newline at end of file
+
+    public void testInterpolatedCoordinates() throws Exception {
+        CulminationEvent exact = new CulminationEvent(ObjectType.Dot, VSOP87Objects.Mars);
+        CulminationEvent interpolated = new CulminationEvent(ObjectType.Dot, VSOP87Objects.Mars);
+        interpolated.setInterpolationNodes(4);
+        for (CulminationEvent event : new CulminationEvent[]{exact, interpolated}) {
+            event.setDate(date);
+            event.setLocation(location);
+        }
+        Assert.assertEquals(exact.getUpperTime().getTimeInMillis(), interpolated.getUpperTime().getTimeInMillis(), 100);
+        Assert.assertEquals(exact.getLowerTime().getTimeInMillis(), interpolated.getLowerTime().getTimeInMillis(), 100);
+        Assert.assertEquals(exact.isUpperAbove(), interpolated.isUpperAbove());
+    }
+}
@@ -0,0 +1,77 @@
+package net.arwix.astronomy.events;
+
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Скорость восхода и захода Солнца для многих мест: {@link RiseSetBatch} в сравнении с {@link RiseSetEvent}
+ * <p/>
+ * Запуск: java -cp target/classes:target/test-classes net.arwix.astronomy.events.RiseSetBatchBenchmark
+ */
+public class RiseSetBatchBenchmark {
+
+    private static final int LOCATIONS = 1000000;
+    private static final int EVENT_LOCATIONS = 2000;
+
+    public static void main(String[] args) throws Exception {
+        final Calendar date = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        date.clear();
+        date.set(2014, Calendar.SEPTEMBER, 14, 12, 0, 0);
+        final Random random = new Random(1);
+        final double[] longitude = new double[LOCATIONS];
+        final double[] latitude = new double[LOCATIONS];
+        for (int i = 0; i < LOCATIONS; i++) {
+            longitude[i] = Math.toRadians(random.nextDouble() * 360.0 - 180.0);
+            latitude[i] = Math.toRadians(random.nextDouble() * 180.0 - 90.0);
+        }
+
+        final RiseSetEvent event = new RiseSetEvent(ObjectType.Sun, VSOP87Objects.Sun);
+        event.setDate(date);
+        long sink = 0;
+        long start = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            start = System.nanoTime();
+            for (int i = 0; i < EVENT_LOCATIONS; i++) {
+                event.setLocation(new Location(longitude[i], latitude[i]));
+                if (event.getRiseTime() != null) sink++;
+            }
+        }
+        final double eventTime = (System.nanoTime() - start) / 1000.0 / EVENT_LOCATIONS;
+
+        final RiseSetBatch batch = new RiseSetBatch(ObjectType.Sun, VSOP87Objects.Sun);
+        final double[] rise = new double[LOCATIONS];
+        final double[] set = new double[LOCATIONS];
+        final boolean[] above = new boolean[LOCATIONS];
+        double batchTime = 0.0;
+        for (int pass = 0; pass < 3; pass++) {
+            start = System.nanoTime();
+            batch.setDate(date);
+            batch.calculate(longitude, latitude, rise, set, above, 0, LOCATIONS);
+            batchTime = (System.nanoTime() - start) / 1000.0 / LOCATIONS;
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool();
+        double parallelTime = 0.0;
+        for (int pass = 0; pass < 3; pass++) {
+            start = System.nanoTime();
+            batch.setDate(date);
+            batch.calculate(pool, longitude, latitude, rise, set, above);
+            parallelTime = (System.nanoTime() - start) / 1000.0 / LOCATIONS;
+        }
+        pool.shutdown();
+        for (int i = 0; i < LOCATIONS; i++) if (!Double.isNaN(rise[i])) sink++;
+
+        System.out.println(String.format(Locale.ENGLISH, "RiseSetEvent: %.2f us, %.0f locations/min",
+                eventTime, 60e6 / eventTime));
+        System.out.println(String.format(Locale.ENGLISH, "RiseSetBatch: %.3f us, %.0f locations/min",
+                batchTime, 60e6 / batchTime));
+        System.out.println(String.format(Locale.ENGLISH, "RiseSetBatch, %d threads: %.3f us, %.0f locations/min (%d)",
+                pool.getParallelism(), parallelTime, 60e6 / parallelTime, sink));
+    }
+}
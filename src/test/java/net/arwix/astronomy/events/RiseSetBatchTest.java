@@ -0,0 +1,119 @@
+package net.arwix.astronomy.events;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.calendar.CalendarMath;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+
+public class RiseSetBatchTest extends TestCase {
+
+    private Calendar date;
+    private double[] longitude;
+    private double[] latitude;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        date = Calendar.getInstance(TimeZone.getTimeZone("GMT+4"));
+        date.clear();
+        date.set(2014, Calendar.JUNE, 14, 20, 0, 0);
+        final Random random = new Random(17);
+        longitude = new double[300];
+        latitude = new double[longitude.length];
+        for (int i = 0; i < longitude.length; i++) {
+            longitude[i] = Math.toRadians(random.nextDouble() * 360.0 - 180.0);
+            // включая полярный день и полярную ночь
+            latitude[i] = Math.toRadians(random.nextDouble() * 170.0 - 85.0);
+        }
+    }
+
+    public void testRiseSet() throws Exception {
+        final RiseSetBatch batch = new RiseSetBatch(ObjectType.Sun, VSOP87Objects.Sun);
+        batch.setDate(date);
+        final double[] rise = new double[longitude.length];
+        final double[] set = new double[longitude.length];
+        final boolean[] above = new boolean[longitude.length];
+        batch.calculate(longitude, latitude, rise, set, above, 0, longitude.length);
+
+        final RiseSetEvent event = new RiseSetEvent(ObjectType.Sun, VSOP87Objects.Sun);
+        event.setDate(date);
+        for (int i = 0; i < longitude.length; i++) {
+            event.setLocation(new Location(longitude[i], latitude[i]));
+            Assert.assertEquals(event.getAbove(), above[i]);
+            assertHours(event.getRiseTime(), rise[i]);
+            assertHours(event.getSetTime(), set[i]);
+        }
+    }
+
+    public void testTwilight() throws Exception {
+        final RiseSetBatch batch = new RiseSetBatch(TwilightEvent.TwilightType.Nautical, VSOP87Objects.Sun);
+        batch.setDate(date);
+        final double[] begin = new double[longitude.length];
+        final double[] end = new double[longitude.length];
+        final boolean[] above = new boolean[longitude.length];
+        batch.calculate(longitude, latitude, begin, end, above, 0, longitude.length);
+
+        final TwilightEvent event = new TwilightEvent(VSOP87Objects.Sun);
+        event.setTwilightType(TwilightEvent.TwilightType.Nautical);
+        event.setDate(date);
+        for (int i = 0; i < longitude.length; i++) {
+            event.setLocation(new Location(longitude[i], latitude[i]));
+            Assert.assertEquals(event.getAbove(), above[i]);
+            assertHours(event.getBeginEvent(), begin[i]);
+            assertHours(event.getEndEvent(), end[i]);
+        }
+    }
+
+    public void testParallel() throws Exception {
+        final RiseSetBatch batch = new RiseSetBatch(ObjectType.Moon, VSOP87Objects.Mars);
+        batch.setDate(date);
+        final int n = 3 * RiseSetBatch.CHUNK_SIZE + 11;
+        final double[] lon = new double[n];
+        final double[] lat = new double[n];
+        for (int i = 0; i < n; i++) {
+            lon[i] = longitude[i % longitude.length];
+            lat[i] = latitude[(i / longitude.length) % latitude.length];
+        }
+        final double[] rise = new double[n], set = new double[n];
+        final double[] parallelRise = new double[n], parallelSet = new double[n];
+        final boolean[] above = new boolean[n], parallelAbove = new boolean[n];
+        batch.calculate(lon, lat, rise, set, above, 0, n);
+        batch.calculate(new ForkJoinPool(4), lon, lat, parallelRise, parallelSet, parallelAbove);
+        Assert.assertTrue(Arrays.equals(rise, parallelRise));
+        Assert.assertTrue(Arrays.equals(set, parallelSet));
+        Assert.assertTrue(Arrays.equals(above, parallelAbove));
+    }
+
+    public void testSetDate() throws Exception {
+        final RiseSetBatch batch = new RiseSetBatch(ObjectType.Sun, VSOP87Objects.Sun);
+        Assert.assertNull(batch.getDate());
+        batch.setDate(date);
+        final RiseSetBatch.Day day = batch.getDay();
+        final double[] track = day.track.clone();
+        final long time = date.getTimeInMillis();
+        // дата копируется, следующие сутки не меняют предыдущие
+        date.add(Calendar.DAY_OF_MONTH, 100);
+        Assert.assertEquals(time, batch.getDate().getTimeInMillis());
+        batch.getDate().add(Calendar.DAY_OF_MONTH, 1);
+        Assert.assertEquals(time, batch.getDate().getTimeInMillis());
+        batch.setDate(date);
+        Assert.assertEquals(date.getTimeInMillis(), batch.getDate().getTimeInMillis());
+        Assert.assertTrue(Arrays.equals(track, day.track));
+        Assert.assertFalse(Arrays.equals(track, batch.getDay().track));
+    }
+
+    private void assertHours(Calendar expected, double hours) {
+        Assert.assertEquals(expected == null, Double.isNaN(hours));
+        if (expected == null) return;
+        final Calendar actual = (Calendar) date.clone();
+        CalendarMath.setHours(actual, hours);
+        // координаты в AbstractEvent через сферические, здесь через единичный вектор
+        Assert.assertEquals(expected.getTimeInMillis(), actual.getTimeInMillis(), 1.0);
+    }
+}
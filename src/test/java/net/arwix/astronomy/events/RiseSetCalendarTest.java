@@ -0,0 +1,97 @@
+package net.arwix.astronomy.events;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+public class RiseSetCalendarTest extends TestCase {
+
+    private static final int DAYS = 365;
+
+    // белые ночи без навигационных сумерек
+    private Location location = new Location(Math.toRadians(30.3290233), Math.toRadians(59.909328));
+    private Calendar start;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        // 26.10.2014 сутки 25 часов
+        start = Calendar.getInstance(TimeZone.getTimeZone("Europe/Moscow"));
+        start.clear();
+        start.set(2014, Calendar.JANUARY, 1, 12, 0, 0);
+    }
+
+    public void testExact() throws Exception {
+        final RiseSetCalendar calendar = new RiseSetCalendar(VSOP87Objects.Sun, 0, ObjectType.Sun,
+                TwilightEvent.TwilightType.Civil, TwilightEvent.TwilightType.Nautical);
+        Assert.assertEquals(0, calendar.getInterpolationNodes());
+        final long max = compare(calendar);
+        Assert.assertTrue("max " + max + " ms", max <= 1);
+    }
+
+    public void testInterpolated() throws Exception {
+        final RiseSetCalendar calendar = new RiseSetCalendar(VSOP87Objects.Sun, ObjectType.Sun,
+                TwilightEvent.TwilightType.Civil, TwilightEvent.TwilightType.Nautical);
+        Assert.assertEquals(RiseSetCalendar.DEFAULT_INTERPOLATION_NODES, calendar.getInterpolationNodes());
+        final long max = compare(calendar);
+        Assert.assertTrue("max " + max + " ms", max <= 100);
+    }
+
+    public void testListener() throws Exception {
+        final RiseSetCalendar calendar = new RiseSetCalendar(VSOP87Objects.Mars, ObjectType.Dot);
+        final RiseSetCalendar.Table table = calendar.calculate(location, start, 40);
+        final int[] calls = new int[1];
+        calendar.calculate(location, start, 40, new RiseSetCalendar.Listener() {
+            @Override
+            public void onEvent(int day, int event, double rise, double set, boolean above) {
+                Assert.assertEquals(0, event);
+                Assert.assertEquals(calls[0]++, day);
+                Assert.assertEquals(Double.valueOf(table.getRise(0, day)), Double.valueOf(rise));
+                Assert.assertEquals(Double.valueOf(table.getSet(0, day)), Double.valueOf(set));
+                Assert.assertEquals(table.getAbove(0, day), above);
+            }
+        });
+        Assert.assertEquals(40, calls[0]);
+        Assert.assertEquals(40, table.getDayCount());
+    }
+
+    /**
+     * @return наибольшая разница с {@link RiseSetEvent} и {@link TwilightEvent} в мс
+     */
+    private long compare(RiseSetCalendar calendar) {
+        final RiseSetCalendar.Table table = calendar.calculate(location, start, DAYS);
+        final RiseSetEvent riseSetEvent = new RiseSetEvent(ObjectType.Sun, VSOP87Objects.Sun);
+        riseSetEvent.setLocation(location);
+        final TwilightEvent twilightEvent = new TwilightEvent(VSOP87Objects.Sun);
+        twilightEvent.setLocation(location);
+        final Calendar date = (Calendar) start.clone();
+        long max = 0;
+        int missing = 0;
+        for (int day = 0; day < DAYS; day++) {
+            riseSetEvent.setDate((Calendar) date.clone());
+            Assert.assertEquals(riseSetEvent.getAbove(), table.getAbove(0, day));
+            max = Math.max(max, difference(riseSetEvent.getRiseTime(), table.getRiseTime(0, day)));
+            max = Math.max(max, difference(riseSetEvent.getSetTime(), table.getSetTime(0, day)));
+            final TwilightEvent.TwilightType[] types = {TwilightEvent.TwilightType.Civil, TwilightEvent.TwilightType.Nautical};
+            for (int i = 0; i < types.length; i++) {
+                twilightEvent.setTwilightType(types[i]);
+                twilightEvent.setDate((Calendar) date.clone());
+                Assert.assertEquals(twilightEvent.getAbove(), table.getAbove(1 + i, day));
+                max = Math.max(max, difference(twilightEvent.getBeginEvent(), table.getRiseTime(1 + i, day)));
+                max = Math.max(max, difference(twilightEvent.getEndEvent(), table.getSetTime(1 + i, day)));
+                if (twilightEvent.getBeginEvent() == null) missing++;
+            }
+            date.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        Assert.assertTrue(missing > 0);
+        return max;
+    }
+
+    private static long difference(Calendar expected, Calendar actual) {
+        Assert.assertEquals(expected == null, actual == null);
+        return expected == null ? 0 : Math.abs(expected.getTimeInMillis() - actual.getTimeInMillis());
+    }
+}
@@ -2,8 +2,11 @@ package net.arwix.astronomy.events;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
+import net.arwix.astronomy.Epoch;
+import net.arwix.astronomy.GeocentricEquatorialCoordinates;
 import net.arwix.astronomy.VSOP87.VSOP87Objects;
 import net.arwix.astronomy.coordinates.Location;
+import net.arwix.astronomy.coordinates.Vector;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -50,5 +53,57 @@ public class RiseSetEventTest extends TestCase {
         boolean above = riseSetEvent.getAbove();
         Assert.assertEquals("SunRiseSet test", above, false);
     }
-}
 
+    public void testInterpolatedCoordinates() throws Exception {
+        final Calendar day = Calendar.getInstance(TimeZone.getTimeZone("GMT+4"));
+        day.clear();
+        day.set(2014, Calendar.JANUARY, 5, 12, 0, 0);
+        long max = 0;
+        int exactCalls = 0;
+        int interpolatedCalls = 0;
+        for (int i = 0; i < 365; i += 11) {
+            for (VSOP87Objects object : new VSOP87Objects[]{VSOP87Objects.Sun, VSOP87Objects.Mercury,
+                    VSOP87Objects.Venus, VSOP87Objects.Mars, VSOP87Objects.Saturn}) {
+                final ObjectType type = object == VSOP87Objects.Sun ? ObjectType.Sun : ObjectType.Dot;
+                final CountingCoordinates exactCoordinates = new CountingCoordinates(object);
+                final CountingCoordinates interpolatedCoordinates = new CountingCoordinates(object);
+                RiseSetEvent exact = new RiseSetEvent(type, exactCoordinates);
+                RiseSetEvent interpolated = new RiseSetEvent(type, interpolatedCoordinates);
+                interpolated.setInterpolationNodes(3);
+                for (RiseSetEvent event : new RiseSetEvent[]{exact, interpolated}) {
+                    event.setDate((Calendar) day.clone());
+                    event.setLocation(location);
+                }
+                Assert.assertEquals(exact.getAbove(), interpolated.getAbove());
+                max = Math.max(max, difference(exact.getRiseTime(), interpolated.getRiseTime()));
+                max = Math.max(max, difference(exact.getSetTime(), interpolated.getSetTime()));
+                Assert.assertEquals(3, interpolatedCoordinates.count);
+                exactCalls += exactCoordinates.count;
+                interpolatedCalls += interpolatedCoordinates.count;
+            }
+            day.add(Calendar.DAY_OF_MONTH, 11);
+        }
+        Assert.assertTrue("max " + max + " ms", max <= 100);
+        Assert.assertTrue(exactCalls + " / " + interpolatedCalls, exactCalls >= 5 * interpolatedCalls);
+    }
+
+    private static long difference(Calendar expected, Calendar actual) {
+        Assert.assertEquals(expected == null, actual == null);
+        return expected == null ? 0 : Math.abs(expected.getTimeInMillis() - actual.getTimeInMillis());
+    }
+
+    private static class CountingCoordinates implements GeocentricEquatorialCoordinates {
+        private final VSOP87Objects object;
+        int count;
+
+        CountingCoordinates(VSOP87Objects object) {
+            this.object = object;
+        }
+
+        @Override
+        public Vector getGeocentricEquatorialPosition(double T, Epoch epoch) {
+            count++;
+            return object.getGeocentricEquatorialPosition(T, epoch);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.arwix.astronomy.events;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+
+public class RiseSetRasterTest extends TestCase {
+
+    private static final int WIDTH = 72;
+    private static final int HEIGHT = 36;
+
+    private RiseSetBatch batch;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        final Calendar date = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        date.clear();
+        date.set(2014, Calendar.JUNE, 21, 12, 0, 0);
+        batch = new RiseSetBatch(ObjectType.Sun, VSOP87Objects.Sun);
+        batch.setDate(date);
+    }
+
+    public void testRaster() throws Exception {
+        final RiseSetRaster raster = RiseSetRaster.getGlobal(batch, WIDTH, HEIGHT);
+        final float[] rise = new float[WIDTH * HEIGHT];
+        final float[] set = new float[WIDTH * HEIGHT];
+        final byte[] state = new byte[WIDTH * HEIGHT];
+        raster.calculate(new ForkJoinPool(3), rise, set, state);
+
+        final double[] longitude = new double[1], latitude = new double[1];
+        final double[] expectedRise = new double[1], expectedSet = new double[1];
+        final boolean[] above = new boolean[1];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                final int index = y * WIDTH + x;
+                longitude[0] = raster.getLongitude(x);
+                latitude[0] = raster.getLatitude(y);
+                batch.calculate(longitude, latitude, expectedRise, expectedSet, above, 0, 1);
+                assertHours((float) expectedRise[0], rise[index]);
+                assertHours((float) expectedSet[0], set[index]);
+                if (!Double.isNaN(expectedRise[0]) && !Double.isNaN(expectedSet[0])) {
+                    Assert.assertEquals(RiseSetRaster.RISE_SET, state[index]);
+                } else if (Double.isNaN(expectedRise[0]) && Double.isNaN(expectedSet[0])) {
+                    Assert.assertEquals(above[0] ? RiseSetRaster.POLAR_DAY : RiseSetRaster.POLAR_NIGHT, state[index]);
+                }
+            }
+        }
+        // июньское солнцестояние
+        Assert.assertEquals(RiseSetRaster.POLAR_DAY, state[0]);
+        Assert.assertEquals(RiseSetRaster.POLAR_NIGHT, state[WIDTH * HEIGHT - 1]);
+        Assert.assertEquals(RiseSetRaster.RISE_SET, state[(HEIGHT / 2) * WIDTH]);
+    }
+
+    public void testDoubleBuffer() throws Exception {
+        final RiseSetRaster raster = new RiseSetRaster(batch, WIDTH, HEIGHT,
+                Math.toRadians(20.0), Math.toRadians(70.0), Math.toRadians(40.0), Math.toRadians(50.0));
+        final float[] rise = new float[WIDTH * HEIGHT];
+        final float[] set = new float[WIDTH * HEIGHT];
+        final DoubleBuffer riseBuffer = ByteBuffer.allocateDirect(8 * WIDTH * HEIGHT)
+                .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        final DoubleBuffer setBuffer = DoubleBuffer.allocate(WIDTH * HEIGHT);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        raster.calculate(pool, rise, set, null);
+        raster.calculate(pool, riseBuffer, setBuffer, null);
+        Assert.assertEquals(0, riseBuffer.position());
+        for (int i = 0; i < WIDTH * HEIGHT; i++) {
+            assertHours(rise[i], (float) riseBuffer.get(i));
+            assertHours(set[i], (float) setBuffer.get(i));
+        }
+    }
+
+    public void testSize() throws Exception {
+        final RiseSetRaster raster = RiseSetRaster.getGlobal(batch, WIDTH, HEIGHT);
+        try {
+            raster.calculate(new ForkJoinPool(1), new float[WIDTH], new float[WIDTH * HEIGHT], null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // ожидаемо
+        }
+    }
+
+    /**
+     * NaN равен NaN
+     */
+    private static void assertHours(float expected, float actual) {
+        Assert.assertEquals(Float.valueOf(expected), Float.valueOf(actual));
+    }
+}
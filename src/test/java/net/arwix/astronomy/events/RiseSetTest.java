@@ -0,0 +1,144 @@
+package net.arwix.astronomy.events;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+import net.arwix.astronomy.VSOP87.VSOP87Objects;
+import net.arwix.astronomy.coordinates.Location;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class RiseSetTest extends TestCase {
+
+    private SimpleDateFormat formater = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss ZZZZZ");
+    private Location location = new Location(Math.toRadians(30.3290233), Math.toRadians(59.909328));
+    private Calendar date;
+
+    public void setUp() throws Exception {
+        super.setUp();
+        date = Calendar.getInstance(TimeZone.getTimeZone("GMT+4"));
+        date.set(Calendar.YEAR, 2014);
+        date.set(Calendar.MONTH, 8);
+        date.set(Calendar.DAY_OF_MONTH, 14);
+        date.set(Calendar.HOUR_OF_DAY, 20);
+        formater.setTimeZone(date.getTimeZone());
+    }
+
+    public void testCompute() throws Exception {
+        final RiseSet riseSet = RiseSet.compute(VSOP87Objects.Sun, ObjectType.Sun, date, location);
+        Assert.assertEquals("Sunrise test", "2014-09-14 07:23:53 +0400", formater.format(riseSet.getRiseTime().getTime()));
+        Assert.assertEquals("Sunset test", "2014-09-14 20:23:12 +0400", formater.format(riseSet.getSetTime().getTime()));
+        Assert.assertFalse(riseSet.getAbove());
+    }
+
+    public void testImmutable() throws Exception {
+        final RiseSet riseSet = RiseSet.compute(VSOP87Objects.Sun, ObjectType.Sun, date, location);
+        final long rise = riseSet.getRiseTime().getTimeInMillis();
+        riseSet.getRiseTime().add(Calendar.HOUR_OF_DAY, 3);
+        riseSet.getRiseTime().getTimeZone().setRawOffset(0);
+        date.add(Calendar.DAY_OF_MONTH, 1);
+        location.latitude = 0.0;
+        Assert.assertEquals(rise, riseSet.getRiseTime().getTimeInMillis());
+        Assert.assertEquals("2014-09-14 07:23:53 +0400", formater.format(riseSet.getRiseTime().getTime()));
+    }
+
+    public void testTwilight() throws Exception {
+        final TwilightEvent event = new TwilightEvent(VSOP87Objects.Sun);
+        event.setLocation(location);
+        for (TwilightEvent.TwilightType type : TwilightEvent.TwilightType.values()) {
+            event.setTwilightType(type);
+            event.setDate(date);
+            final RiseSet twilight = RiseSet.computeTwilight(VSOP87Objects.Sun, type, date, location);
+            Assert.assertEquals(event.getAbove(), twilight.above);
+            assertTime(event.getBeginEvent(), twilight.getRiseTime());
+            assertTime(event.getEndEvent(), twilight.getSetTime());
+        }
+    }
+
+    public void testInstant() throws Exception {
+        final TimeZone timeZone = (TimeZone) date.getTimeZone().clone();
+        final RiseSet expected = RiseSet.compute(VSOP87Objects.Sun, ObjectType.Sun, date, location);
+        final RiseSet riseSet = RiseSet.compute(VSOP87Objects.Sun, ObjectType.Sun, date.getTimeInMillis(), timeZone, location);
+        // пояс копируется, изменение после вызова не меняет результат
+        timeZone.setRawOffset(0);
+        Assert.assertEquals(Double.valueOf(expected.rise), Double.valueOf(riseSet.rise));
+        Assert.assertEquals(Double.valueOf(expected.set), Double.valueOf(riseSet.set));
+        Assert.assertEquals(expected.getRiseTime().getTimeInMillis(), riseSet.getRiseTime().getTimeInMillis());
+        Assert.assertEquals("2014-09-14 20:23:12 +0400", formater.format(riseSet.getSetTime().getTime()));
+    }
+
+    public void testConcurrent() throws Exception {
+        final int days = 64;
+        final long day0 = date.getTimeInMillis();
+        final TimeZone timeZone = date.getTimeZone();
+        final RiseSet[] expected = new RiseSet[days];
+        final long[] riseTimes = new long[days];
+        for (int day = 0; day < days; day++) {
+            expected[day] = RiseSet.compute(VSOP87Objects.Mercury, ObjectType.Dot, day0 + 5L * day * 86400000L, timeZone, location);
+            final Calendar rise = expected[day].getRiseTime();
+            riseTimes[day] = rise == null ? 0L : rise.getTimeInMillis();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final AtomicBoolean done = new AtomicBoolean();
+        try {
+            // общие результаты меняются через возвращаемые календари, пока другие потоки их читают
+            final Future<?> writer = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    while (!done.get()) {
+                        for (RiseSet riseSet : expected) {
+                            final Calendar rise = riseSet.getRiseTime();
+                            if (rise == null) continue;
+                            rise.add(Calendar.HOUR_OF_DAY, 3);
+                            rise.getTimeZone().setRawOffset(0);
+                        }
+                    }
+                }
+            });
+            // общие координаты, пояс, место и результаты во всех потоках
+            final List<Future<RiseSet[]>> futures = new ArrayList<Future<RiseSet[]>>();
+            for (int thread = 0; thread < 16; thread++) {
+                futures.add(executor.submit(new Callable<RiseSet[]>() {
+                    @Override
+                    public RiseSet[] call() throws Exception {
+                        final RiseSet[] results = new RiseSet[days];
+                        for (int day = 0; day < days; day++) {
+                            results[day] = RiseSet.compute(VSOP87Objects.Mercury, ObjectType.Dot,
+                                    day0 + 5L * day * 86400000L, timeZone, location);
+                            final Calendar rise = expected[day].getRiseTime();
+                            Assert.assertEquals(riseTimes[day], rise == null ? 0L : rise.getTimeInMillis());
+                        }
+                        return results;
+                    }
+                }));
+            }
+            for (Future<RiseSet[]> future : futures) {
+                final RiseSet[] results = future.get();
+                for (int day = 0; day < days; day++) {
+                    Assert.assertEquals(Double.valueOf(expected[day].rise), Double.valueOf(results[day].rise));
+                    Assert.assertEquals(Double.valueOf(expected[day].set), Double.valueOf(results[day].set));
+                    Assert.assertEquals(expected[day].above, results[day].above);
+                }
+            }
+            done.set(true);
+            writer.get();
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+        Assert.assertEquals(TimeZone.getTimeZone("GMT+4").getRawOffset(), timeZone.getRawOffset());
+    }
+
+    private static void assertTime(Calendar expected, Calendar actual) {
+        Assert.assertEquals(expected == null, actual == null);
+        if (expected != null) Assert.assertEquals(expected.getTimeInMillis(), actual.getTimeInMillis(), 1.0);
+    }
+}